@@ -1506,7 +1506,7 @@ public abstract class DatabaseMetaData implements java.sql.DatabaseMetaData {
 	}
 
 	/**
-	 * еĹ߰a.btxschema=a, table=btx֧д
+	 * 有的工具把a.btx当作schema=a, table=btx。本方法用于支持这种写法。
 	 * 
 	 * @param schemaPattern
 	 * @param tableNamePattern
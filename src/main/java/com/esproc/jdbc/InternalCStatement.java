@@ -37,7 +37,7 @@ public abstract class InternalCStatement extends InternalPStatement implements
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * call splxĲб
+	 * call splx的参数名称列表
 	 */
 	private List<String> paramNames = null;
 
@@ -57,7 +57,7 @@ public abstract class InternalCStatement extends InternalPStatement implements
 	}
 
 	/**
-	 * ݲȡ
+	 * 根据参数名取参数序号
 	 * @param parameterName
 	 * @return
 	 * @throws SQLException 
@@ -66,17 +66,17 @@ public abstract class InternalCStatement extends InternalPStatement implements
 			throws SQLException {
 		if (!StringUtils.isValidString(parameterName)) {
 			throw new SQLException(JDBCMessage.get().getMessage(
-					"error.emptyparamname")); // ƲΪա
+					"error.emptyparamname")); // 参数名称不能为空。
 		}
 		if (paramNames == null) {
 			if (!StringUtils.isValidString(sql)) {
 				throw new SQLException(JDBCMessage.get().getMessage(
-						"error.onlycallsetparam")); // ֻCALLCALLSְ֧ղòֵ
+						"error.onlycallsetparam")); // 只有CALL或者CALLS语句支持按照参数名称设置参数值。
 			}
 			try {
 				String splName = JDBCUtil.getSplName(sql);
 				if (!StringUtils.isValidString(splName)) {
-					// SPLXļΪա
+					// SPLX文件名不能为空。
 					throw new SQLException(JDBCMessage.get().getMessage(
 							"error.emptysplname"));
 				}
@@ -85,13 +85,13 @@ public abstract class InternalCStatement extends InternalPStatement implements
 					throw new SQLException(JDBCMessage.get().getMessage(
 							"error.conclosed"));
 				Table t;
-				if (connt.isOnlyServer()) { // ȥ
+				if (connt.isOnlyServer()) { // 去服务器找
 					UnitClient uc = connt.getUnitClient();
 					int connId = connt.getUnitConnectionId();
 					t = uc.JDBCGetSplParams(connId, splName, false);
 				} else {
 					t = JDBCUtil.getSplParams(splName);
-					if (t == null || t.length() == 0) { // ûҵȥ
+					if (t == null || t.length() == 0) { // 本地没找到，去服务器找
 						List<String> hosts = Server.getInstance()
 								.getHostNames();
 						if (hosts != null && !hosts.isEmpty()) {
@@ -109,7 +109,7 @@ public abstract class InternalCStatement extends InternalPStatement implements
 					}
 				}
 				if (t == null || t.length() == 0) {
-					// δҵļ{0}
+					// 未找到文件：{0}。
 					throw new SQLException(JDBCMessage.get().getMessage(
 							"error.splnotfound", splName));
 				}
@@ -150,7 +150,7 @@ public abstract class InternalCStatement extends InternalPStatement implements
 		int paramIndex = paramNames.indexOf(parameterName);
 		if (paramIndex < 0) {
 			throw new SQLException(JDBCMessage.get().getMessage(
-					"error.paramnamenotfound")); // {0}ڡ
+					"error.paramnamenotfound")); // 参数名称{0}不存在。
 		}
 		return paramIndex + 1;
 	}
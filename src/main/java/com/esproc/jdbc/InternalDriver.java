@@ -13,12 +13,12 @@ import com.scudata.common.Logger;
 import com.scudata.common.StringUtils;
 
 /**
- * esProc jdbc࣬ʵjava.sql.Driver 
- * URL: 
- * username=UserNameû
- * config=raqsoftConfig.xmlָļơļֻһΡ
- * onlyserver=true/falsetrueڷִУfalseڱִУҲʱõķִС
- * debugmode=true/falsetrueϢfalseϢ
+ * esProc jdbc驱动类，实现了java.sql.Driver。 
+ * URL参数如下: 
+ * username=UserName用户名。
+ * config=raqsoftConfig.xml指定配置文件名称。配置文件只会加载一次。
+ * onlyserver=true/false。true在服务器执行，false先在本地执行，找不到时在配置的服务器上执行。
+ * debugmode=true/false。true会输出调试信息，false不输出调试信息
  * 
  */
 public class InternalDriver implements java.sql.Driver, Serializable {
@@ -142,12 +142,12 @@ public class InternalDriver implements java.sql.Driver, Serializable {
 	}
 
 	/**
-	 * ɽܵURL
+	 * 可接受的URL
 	 */
 	private static final String ACCEPT_URL = "jdbc:esproc:local:";
 
 	/**
-	 * ʾ
+	 * 示例
 	 */
 	private static final String DEMO_URL = "jdbc:esproc:local://";
 
@@ -1014,13 +1014,13 @@ public abstract class InternalPStatement extends InternalStatement implements
 	}
 
 	/**
-	 * еֽ
+	 * 获得输入流中的字节数组
 	 * 
 	 * @param is
-	 *            
+	 *            输入流对象
 	 * @throws Exception
-	 *             
-	 * @return ֽ
+	 *             输入输出错误
+	 * @return 字节数组
 	 */
 	private byte[] inputStream2Bytes(InputStream is) throws Exception {
 		if (is == null) {
@@ -1146,13 +1146,13 @@ public abstract class InternalPStatement extends InternalStatement implements
 	}
 
 	/**
-	 * еֽ
+	 * 获得输入流中的字节数组
 	 * 
 	 * @param is
-	 *            
+	 *            输入流对象
 	 * @throws Exception
-	 *             
-	 * @return ֽ
+	 *             输入输出错误
+	 * @return 字节数组
 	 */
 	private String reader2String(Reader reader) throws Exception {
 		if (reader == null) {
@@ -113,9 +113,9 @@ public abstract class InternalStatement implements java.sql.Statement {
 	}
 
 	/**
-	 * ִи䣬֧SQL
+	 * 执行更新语句，仅支持SQL
 	 * 
-	 * @param parameters 
+	 * @param parameters 参数
 	 * @return int
 	 * @throws SQLException
 	 */
@@ -129,10 +129,10 @@ public abstract class InternalStatement implements java.sql.Statement {
 	}
 
 	/**
-	 * ִ
+	 * 执行命令
 	 * 
-	 * @param parameters 
-	 * @param isUpdate   Ƿ
+	 * @param parameters 参数
+	 * @param isUpdate   是否更新语句
 	 * @return Object
 	 * @throws SQLException
 	 */
@@ -189,7 +189,7 @@ public abstract class InternalStatement implements java.sql.Statement {
 	 * @param sql        The SQL string
 	 * @param parameters The parameter list
 	 * @param con        The connection object
-	 * @param isUpdate   Ƿupdate
+	 * @param isUpdate   是否update语句
 	 * @return The result of execution
 	 * @throws SQLException
 	 * @throws InterruptedException
@@ -208,7 +208,7 @@ public abstract class InternalStatement implements java.sql.Statement {
 				return null;
 			if (isUpdate
 					&& (sqlType != JDBCConsts.TYPE_SQL && sqlType != JDBCConsts.TYPE_SIMPLE_SQL)) {
-				// SQLSQL֧update
+				// 仅简单SQL和SQL支持update语句
 				return null;
 			}
 			Context ctx = con.getCtx();
@@ -328,7 +328,7 @@ public abstract class InternalStatement implements java.sql.Statement {
 		// FileObject fo = new FileObject(gateway, "s", ctx);
 		PgmCellSet cellSet;
 		try {
-			// ֧޺׺ʱ˳
+			// 支持无后缀时按顺序查找
 			cellSet = AppUtil.readCellSet(gateway);
 			// InputStream in = fo.getInputStream();
 			// if (in == null) {
@@ -3,7 +3,7 @@ package com.esproc.jdbc;
 import com.scudata.app.common.AppConsts;
 
 /**
- * JDBCжĳ
+ * JDBC中定义的常量
  *
  */
 public class JDBCConsts {
@@ -74,13 +74,13 @@ public class JDBCConsts {
 
 	public static final String KEY_SEQ = "KEY_SEQ";
 
-	/** JDBCֵ֧ļ **/
+	/** JDBC支持的数据文件类型 **/
 	public static final String DATA_FILE_EXTS = AppConsts.FILE_BTX + ","
 			+ AppConsts.FILE_TXT + "," + AppConsts.FILE_CSV + ","
 			+ AppConsts.FILE_XLS + "," + AppConsts.FILE_XLSX;
 
 	/**
-	 * ȱʡһλȡ
+	 * 缺省一次获取的行数
 	 */
 	public static final int DEFAULT_FETCH_SIZE = 1000;
 
@@ -29,15 +29,20 @@ import com.scudata.dm.BaseRecord;
 import com.scudata.dm.Context;
 import com.scudata.dm.DataStruct;
 import com.scudata.dm.Env;
+import com.scudata.dm.FileObject;
+import com.scudata.dm.JobSpace;
 import com.scudata.dm.KeyWord;
 import com.scudata.dm.LocalFile;
 import com.scudata.dm.Param;
 import com.scudata.dm.ParamList;
+import com.scudata.dm.Record;
+import com.scudata.dm.ResultCache;
 import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
 import com.scudata.dm.cursor.ICursor;
 import com.scudata.dm.query.SimpleSelect;
 import com.scudata.expression.fn.Eval;
+import com.scudata.util.EnvUtil;
 
 /**
  * JDBC tool class
@@ -96,10 +101,10 @@ public class JDBCUtil {
 	/**
 	 * Execute JDBC statement
 	 * 
-	 * @param sql        
-	 * @param parameters б
-	 * @param ctx        
-	 * @param logInfo    Ƿ־
+	 * @param sql        语句
+	 * @param parameters 参数列表
+	 * @param ctx        上下文
+	 * @param logInfo    是否输出日志
 	 * @return Object
 	 * @throws Exception
 	 */
@@ -124,7 +129,7 @@ public class JDBCUtil {
 			isGrid = AppUtil.isGrid(sql);
 			sql = sql.substring(1);
 			if (!isGrid)
-				if (Command.isCommand(sql)) { // ʽҲʽ
+				if (Command.isCommand(sql)) { // 单个表达式也可能是网格表达式
 					isGrid = true;
 				}
 		} else if (sql.toLowerCase().startsWith(JDBCConsts.KEY_CALLS)) {
@@ -168,11 +173,11 @@ public class JDBCUtil {
 			arg = prepareArg((ArrayList<Object>) parameters);
 		}
 
-		if (isGrid) { // ʽ
+		if (isGrid) { // 网格表达式
 			Object val = AppUtil.execute(sql, arg, ctx);
 			return val;
 		}
-		boolean isOldCall = false; // ?call
+		boolean isOldCall = false; // ?参数的call语句
 		if (sql.startsWith("jdbccall")) {
 			int i1 = sql.indexOf("(");
 			int i2 = sql.indexOf(")");
@@ -191,6 +196,12 @@ public class JDBCUtil {
 		if (sql.startsWith("=") || sql.startsWith(">")) {
 			sql = sql.substring(1);
 		}
+		if (splName != null && !isCalls && hasReturn) {
+			long ttl = ResultCache.getInstance().getTTL(splName);
+			if (ttl > 0) {
+				return executeCache(splName, sql, arg, ctx, isOldCall, ttl);
+			}
+		}
 		Object o;
 		if (isOldCall) {
 			o = Eval.calc(sql, arg, null, ctx);
@@ -203,7 +214,132 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ȥsqlĿհ׺ʹ
+	 * 使用结果缓存执行call语句，脚本文件和参数都相同时直接返回缓存的结果
+	 * 
+	 * @param splName   脚本文件名
+	 * @param sql       call语句转成的表达式
+	 * @param arg       参数
+	 * @param ctx       上下文
+	 * @param isOldCall 是否?参数的call语句
+	 * @param ttl       结果的有效期，毫秒
+	 * @return MultiResult
+	 * @throws Exception
+	 */
+	private static Object executeCache(String splName, final String sql,
+			final Sequence arg, final Context ctx, final boolean isOldCall,
+			long ttl) throws Exception {
+		String filePath = AppUtil.searchSplFilePath(splName);
+		String version = ResultCache.getVersion(new FileObject(filePath, "s"));
+		ResultCache.Loader loader = new ResultCache.Loader() {
+			public Object load() throws Exception {
+				Object o;
+				if (isOldCall) {
+					o = Eval.calc(sql, arg, null, ctx);
+				} else {
+					o = AppUtil.execute1(sql, arg, ctx);
+				}
+				// 取出网的所有结果，以便多个语句共用
+				Sequence results = new Sequence();
+				if (o instanceof PgmCellSet) {
+					PgmCellSet pcs = (PgmCellSet) o;
+					while (pcs.hasNextResult()) {
+						results.add(pcs.nextResult());
+					}
+				} else {
+					results.add(o);
+				}
+				return results;
+			}
+
+			public long sizeOf(Object value) {
+				Sequence results = (Sequence) value;
+				for (int i = 1, len = results.length(); i <= len; i++) {
+					if (results.getMem(i) instanceof ICursor) {
+						return -1;
+					}
+				}
+				return EnvUtil.estimateMemory(results);
+			}
+		};
+
+		if (version == null) {
+			return new MultiResult((Sequence) loader.load());
+		}
+
+		String key = "jdbc:" + filePath + ":" + version + ":"
+				+ getContextKey(ctx) + ":" + sql
+				+ ResultCache.toKey(arg == null ? null : arg.toArray());
+		Sequence results = (Sequence) ResultCache.getInstance().get(key, ttl,
+				loader);
+		// 缓存的结果多个语句共用，每个语句用自己的复本
+		return new MultiResult(copyResults(results));
+	}
+
+	/**
+	 * 取上下文环境对应的缓存键，任务空间、数据源或者变量不同的连接不能共用结果
+	 * 
+	 * @param ctx 上下文
+	 * @return String
+	 */
+	private static String getContextKey(Context ctx) {
+		StringBuffer sb = new StringBuffer();
+		JobSpace js = ctx.getJobSpace();
+		sb.append(js == null ? null : js.getID());
+		// 同一连接的计算上下文共用数据源，连接重置后数据源也会变
+		sb.append(':').append(
+				System.identityHashCode(ctx.getDBSessionMap()));
+		sb.append(':').append(
+				System.identityHashCode(ctx.getDBSessionFactoryMap()));
+		sb.append(':').append(ctx.getDefDBsessionName());
+
+		ParamList pl = ctx.getParamList();
+		int count = pl == null ? 0 : pl.count();
+		Object[] params = new Object[count * 2];
+		for (int i = 0; i < count; i++) {
+			Param p = pl.get(i);
+			params[i * 2] = p.getName();
+			params[i * 2 + 1] = p.getValue();
+		}
+		sb.append(ResultCache.toKey(params));
+		return sb.toString();
+	}
+
+	/**
+	 * 复制缓存的结果，语句修改自己的结果时不影响缓存和其它语句
+	 * 
+	 * @param results 缓存的结果
+	 * @return Sequence
+	 */
+	private static Sequence copyResults(Sequence results) {
+		int len = results.length();
+		Sequence copy = new Sequence(len);
+		for (int i = 1; i <= len; i++) {
+			copy.add(copyResult(results.getMem(i)));
+		}
+		return copy;
+	}
+
+	private static Object copyResult(Object o) {
+		if (o instanceof Table) {
+			return ((Table) o).derive(null);
+		} else if (o instanceof Sequence) {
+			Sequence seq = (Sequence) o;
+			int len = seq.length();
+			Sequence copy = new Sequence(len);
+			for (int i = 1; i <= len; i++) {
+				copy.add(copyResult(seq.getMem(i)));
+			}
+			return copy;
+		} else if (o instanceof BaseRecord) {
+			BaseRecord r = (BaseRecord) o;
+			return new Record(r.dataStruct(), r.getFieldValues());
+		} else {
+			return o;
+		}
+	}
+
+	/**
+	 * 去除sql外的空白和大括号
 	 * @param sql
 	 * @return
 	 */
@@ -293,7 +429,7 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * Ƿcalls spl
+	 * 是否calls spl语句
 	 * 
 	 * @param sql
 	 * @return boolean
@@ -307,7 +443,7 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ȡcallssplƺͲ
+	 * 取calls语句的spl名称和参数
 	 * @param sql
 	 * @param parameters
 	 * @return
@@ -319,10 +455,10 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ȡcallssplƺͲ
+	 * 取calls语句的spl名称和参数
 	 * @param sql
 	 * @param parameters
-	 * @param isExecute Ƿִʱõģִʱ
+	 * @param isExecute 是否执行时调用的，不是执行时不处理参数
 	 * @return
 	 * @throws SQLException
 	 */
@@ -341,9 +477,9 @@ public class JDBCUtil {
 
 			params = sql.substring(left + 1, sql.length() - 1).trim();
 			if (isExecute) {
-				// ?Ĳ
+				// 处理非?的参数
 				if (parameters.isEmpty()) {
-					// ûдݲʱƴһԱ
+					// 没有传递参数时，拼成一个成员的序列
 					StringBuffer totalParams = new StringBuffer();
 					ArgumentTokenizer at = new ArgumentTokenizer(params, ',');
 					while (at.hasNext()) {
@@ -387,7 +523,7 @@ public class JDBCUtil {
 							for (int i = 0; i < len; i++) {
 								if (repParams.length() > 0)
 									repParams.append(",");
-								// ?ĲӦظN
+								// 非?的参数应该重复N遍
 								if (param == null) {
 									repParams.append("");
 								} else {
@@ -411,7 +547,7 @@ public class JDBCUtil {
 		String splName = name;
 		if (splName != null) {
 			splName = splName.trim();
-			// ű
+			// 脚本
 			if (splName.startsWith("\"") && splName.endsWith("\"")) {
 				splName = splName.substring(1, splName.length() - 2);
 				splName = splName.trim();
@@ -421,7 +557,7 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ȡcallsplxƺͲ
+	 * 取call语句的splx名称和参数
 	 * @param sql
 	 * @return
 	 * @throws SQLException
@@ -445,7 +581,7 @@ public class JDBCUtil {
 		String splName = name;
 		if (splName != null) {
 			splName = splName.trim();
-			// ű
+			// 脚本
 			if (splName.startsWith("\"") && splName.endsWith("\"")) {
 				splName = splName.substring(1, splName.length() - 2);
 				splName = splName.trim();
@@ -455,7 +591,7 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ȡSPLsplxƺͲ
+	 * 取SPL语句的splx名称和参数
 	 * @param sql
 	 * @return
 	 */
@@ -490,7 +626,7 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * call,calls,splлȡSPLļ
+	 * 从call,calls,spl三种语句中获取SPL文件名
 	 * 
 	 * @param sql
 	 * @return String[]
@@ -538,7 +674,7 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ׼calls
+	 * 准备calls参数
 	 * 
 	 * @param parameters
 	 * @return Sequence
@@ -653,7 +789,7 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ȡSPLļĲݲcall(s)Ĳʱ
+	 * 取SPL文件的参数，根据参数名设置call(s)的参数时调用
 	 * 
 	 * @param procedureNamePattern
 	 * @return Table
@@ -678,7 +814,7 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ȡSPLļ
+	 * 取SPL文件名
 	 * 
 	 * @param procedureNamePattern
 	 * @return Table
@@ -699,7 +835,7 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ȡSPLļͲԪ
+	 * 取SPL文件和参数，用于元数据
 	 * 
 	 * @param procedureNamePattern
 	 * @return Table
@@ -721,7 +857,7 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ȡSPLļͲӳ
+	 * 取SPL文件名和参数映射
 	 * @param procedureNamePattern
 	 * @param columnNamePattern
 	 * @return
@@ -914,7 +1050,7 @@ public class JDBCUtil {
 	 * 
 	 * @param filter   File name filter
 	 * @param fileExts File extensions
-	 * @param matchAll ǷҪƥȫ·FALSEʱԽƥļ
+	 * @param matchAll 是否需要匹配全路径。FALSE时可以仅匹配文件名。
 	 * @return files map
 	 */
 	public static Map<String, String> getFiles(String filter,
@@ -938,7 +1074,7 @@ public class JDBCUtil {
 	 * @param map      Storage file name and title mapping
 	 * @param pattern  The Pattern object
 	 * @param fileExts File extensions
-	 * @param matchAll ǷҪƥȫ·FALSEʱԽƥļ
+	 * @param matchAll 是否需要匹配全路径。FALSE时可以仅匹配文件名。
 	 */
 	private static void getDirFiles(int rootLen, File pfile,
 			Map<String, String> map, Pattern pattern, List<String> fileExts,
@@ -959,15 +1095,15 @@ public class JDBCUtil {
 					if (fileName.toLowerCase().endsWith(fileExt)) {
 						if (pattern != null) {
 							boolean find;
-							if (matchAll) { // ƥȫ·
+							if (matchAll) { // 匹配全路径
 								fileName = getSubPath(rootLen, pfile);
 								find = matchPattern(pattern, pfile, fileName,
 										fileExt);
 							} else {
-								// ƥļ
+								// 匹配文件名
 								find = matchPattern(pattern, pfile, fileName,
 										fileExt);
-								// ƥȫ·
+								// 匹配全路径
 								if (!find) {
 									fileName = getSubPath(rootLen, pfile);
 									find = matchPattern(pattern, pfile,
@@ -994,28 +1130,28 @@ public class JDBCUtil {
 	}
 
 	/**
-	 * ƥ
+	 * 正则匹配
 	 * @param pattern Pattern
-	 * @param file ļ
-	 * @param fileName ļ
-	 * @param fileExt ļ׺
-	 * @return Ƿƥ
+	 * @param file 文件
+	 * @param fileName 文件名
+	 * @param fileExt 文件后缀
+	 * @return 是否匹配
 	 */
 	private static boolean matchPattern(Pattern pattern, File file,
 			String fileName, String fileExt) {
 		Matcher m;
 		boolean find = false;
-		// ֱƥʽ
+		// 直接匹配正则表达式
 		m = pattern.matcher(fileName);
 		find = m.matches();
 		if (!find) {
-			// patternûӺ׺fileNameȥ׺ƥ
+			// pattern可能没加后缀，fileName去掉后缀后正则匹配
 			fileName = fileName.substring(0,
 					fileName.length() - fileExt.length());
 			m = pattern.matcher(fileName);
 			find = m.matches();
 		}
-		if (!find) { // ļ·ƥ
+		if (!find) { // 用文件路径匹配
 			String sPattern = pattern.toString();
 			if (!sPattern.toLowerCase().endsWith(fileExt)) {
 				sPattern += fileExt;
@@ -1200,7 +1336,7 @@ public class JDBCUtil {
 							BaseRecord r = (BaseRecord) seq.get(i);
 							for (int j = 0; j < fields.length; j++) {
 								Object o = null;
-								try { // 칹
+								try { // 异构数据
 									o = r.getFieldValue(fields[j]);
 								} catch (Exception ex) {
 								}
@@ -1531,7 +1667,7 @@ public class JDBCUtil {
 		StringBuffer buf = new StringBuffer();
 		Reader is = null;
 		try {
-			is = x.getCharacterStream();// õ
+			is = x.getCharacterStream();// 得到流
 			BufferedReader br = new BufferedReader(is);
 			String s = br.readLine();
 			while (s != null) {
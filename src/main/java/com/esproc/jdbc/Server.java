@@ -115,7 +115,7 @@ public class Server {
 	private void loadConfig(String sconfig) throws SQLException {
 		if (config != null) {
 			if (StringUtils.isValidString(sconfig))
-				if (lastConfig == null || !lastConfig.equalsIgnoreCase(sconfig)) { // ͨAPIع
+				if (lastConfig == null || !lastConfig.equalsIgnoreCase(sconfig)) { // 通过API加载过了
 					Logger.info(JDBCMessage.get().getMessage(
 							"server.configloadonce"));
 				}
@@ -158,7 +158,7 @@ public class Server {
 					"error.confignotfound", fileName);
 			Logger.error(errorMessage);
 			if (StringUtils.isValidString(sconfig)) {
-				// URLָconfigسʱ쳣Ĭϼ·µĲ쳣
+				// URL指定的config加载出错时抛异常，默认加载类路径下的不抛异常
 				throw new SQLException(errorMessage);
 			}
 		}
@@ -1,7 +1,7 @@
 package com.scudata.app.common;
 
 /**
- * Ʒйõĳ
+ * 产品中公用的常量
  *
  */
 public class AppConsts {
@@ -37,10 +37,10 @@ public class AppConsts {
 	public static final String FILE_XML = "xml";
 	/** LOG file extension */
 	public static final String FILE_LOG = "log";
-	/** Դļ **/
+	/** 资源文件 **/
 	public static final String FILE_PROPERTIES = "properties";
 
-	/** ֵ֧SPLļ */
+	/** 支持的SPL文件类型 */
 	public static final String SPL_FILE_EXTS = AppConsts.FILE_SPLX + "," + AppConsts.FILE_SPL + ","
 			+ AppConsts.FILE_DFX;
 }
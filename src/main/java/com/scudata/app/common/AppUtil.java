@@ -85,11 +85,11 @@ public class AppUtil {
 	}
 
 	/**
-	 * ִнű
+	 * 执行脚本
 	 * @param cmd  statement
 	 * @param args Parameters
 	 * @param ctx The context
-	 * @param escape Ƿ
+	 * @param escape 是否脱引号
 	 * @return The result
 	 * @throws SQLException
 	 */
@@ -98,7 +98,7 @@ public class AppUtil {
 		if (!StringUtils.isValidString(cmd)) {
 			return null;
 		}
-		// trimᵼβĻлзűȥ
+		// trim会导致首尾的换行换列符号被去掉
 		// cmd = cmd.trim();
 		boolean returnValue = true;
 		boolean isExp = false;
@@ -110,7 +110,7 @@ public class AppUtil {
 			cmd = cmd.substring(1);
 			isExp = true;
 			isGrid = isGrid(cmd);
-			if (!isGrid && Command.isCommand(cmd)) { // ʽҲʽ
+			if (!isGrid && Command.isCommand(cmd)) { // 单个表达式也可能是网格表达式
 				isGrid = true;
 			}
 		}
@@ -274,10 +274,10 @@ public class AppUtil {
 	}
 
 	/**
-	 * ִеʽ
+	 * 执行单表达式，不生成网格
 	 * 
-	 * @param src  ʽ
-	 * @param args ֵɵУ?i
+	 * @param src  表达式
+	 * @param args 参数值构成的序列，用?i引用
 	 * @param ctx
 	 * @return
 	 */
@@ -287,10 +287,10 @@ public class AppUtil {
 	}
 
 	/**
-	 * ִбʽtabָûسָ
+	 * 执行表达式串，列用tab分隔，行用回车分隔
 	 * 
 	 * @param src
-	 * @param args ֵɵУ?argi
+	 * @param args 参数值构成的序列，用?argi引用
 	 * @param ctx
 	 * @return
 	 */
@@ -311,11 +311,11 @@ public class AppUtil {
 	}
 
 	/**
-	 * ɨID
+	 * 扫描ID
 	 * 
-	 * @param expStr   ʽַ
-	 * @param location ʼλ
-	 * @return ҵID
+	 * @param expStr   表达式字符串
+	 * @param location 起始位置
+	 * @return 找到的ID
 	 */
 	public static String scanId(String expStr, int location) {
 		int len = expStr.length();
@@ -334,12 +334,12 @@ public class AppUtil {
 	}
 
 	/**
-	 * һַǷַָcַ
+	 * 返回下一个字符是否是指定字符c，空字符跳过
 	 * 
-	 * @param c        ַ
-	 * @param expStr   ʽַ
-	 * @param location ʼλ
-	 * @return һַǷַָc
+	 * @param c        字符
+	 * @param expStr   表达式字符串
+	 * @param location 起始位置
+	 * @return 下一个字符是否是指定字符c
 	 */
 	public static boolean isNextChar(char c, String expStr, int location) {
 		int len = expStr.length();
@@ -620,7 +620,7 @@ public class AppUtil {
 		} catch (Exception x) {
 			Logger.info("Error on get localhost:" + x.getMessage());
 		}
-		if (ips.isEmpty()) {// ֹҲǷnullnull쳣
+		if (ips.isEmpty()) {// 防止找不到网卡是返回null对象，抛null异常
 			return new String[0];
 		}
 		return StringUtils.toStringArray(ips);
@@ -695,9 +695,9 @@ public class AppUtil {
 	}
 
 	/**
-	 * ȡSPLļ
+	 * 读取SPL文件到程序网格
 	 * 
-	 * @param filePath SPLļ·
+	 * @param filePath SPL文件路径
 	 * @return The PgmCellSet
 	 * @throws Exception
 	 */
@@ -707,9 +707,9 @@ public class AppUtil {
 	}
 
 	/**
-	 * ʽȡSPLļ
+	 * 流式读取SPL文件到程序网格
 	 * 
-	 * @param in ļ
+	 * @param in 文件输入流
 	 * @return PgmCellSet
 	 * @throws Exception
 	 */
@@ -719,7 +719,7 @@ public class AppUtil {
 	}
 
 	/**
-	 * ַͨSPL
+	 * 通过字符串SPL创建程序网格
 	 * 
 	 * @param spl
 	 * @return PgmCellSet
@@ -748,9 +748,9 @@ public class AppUtil {
 	}
 
 	/**
-	 * ȡSPLļΪַ
+	 * 读取SPL文件为字符串
 	 * 
-	 * @param filePath SPLļ·
+	 * @param filePath SPL文件路径
 	 * @return String
 	 * @throws Exception
 	 */
@@ -808,10 +808,10 @@ public class AppUtil {
 	}
 
 	/**
-	 * SPLļ
+	 * 导出网格到SPL文件
 	 * 
-	 * @param filePath SPLļ·
-	 * @param cellSet  
+	 * @param filePath SPL文件路径
+	 * @param cellSet  程序网对象
 	 * @throws Exception
 	 */
 	public static void writeSPLFile(String filePath, PgmCellSet cellSet)
@@ -821,10 +821,10 @@ public class AppUtil {
 	}
 
 	/**
-	 * ַSPLļ
+	 * 导出网格字符串到SPL文件
 	 * 
-	 * @param filePath   SPLļ·
-	 * @param cellSetStr ַ
+	 * @param filePath   SPL文件路径
+	 * @param cellSetStr 网格字符串
 	 * @throws Exception
 	 */
 	public static void writeSPLFile(String filePath, String cellSetStr)
@@ -857,10 +857,10 @@ public class AppUtil {
 	}
 
 	/**
-	 * ǷSPLļ
+	 * 是否SPL文件
 	 * 
-	 * @param fileName ļ
-	 * @return ǷSPLļ
+	 * @param fileName 文件名
+	 * @return 是否SPL文件
 	 */
 	public static boolean isSPLFile(String fileName) {
 		if (!StringUtils.isValidString(fileName)) {
@@ -875,10 +875,10 @@ public class AppUtil {
 	}
 
 	/**
-	 * ȡ
+	 * 读取程序网格
 	 * 
-	 * @param filePath ļ·
-	 * @return 
+	 * @param filePath 网格文件路径
+	 * @return 程序网格对象
 	 * @throws Exception
 	 */
 	public static PgmCellSet readCellSet(String filePath) throws Exception {
@@ -903,7 +903,7 @@ public class AppUtil {
 	}
 
 	/**
-	 * SPLļ֧޺׺
+	 * 查找SPL文件名，用于支持无后缀名的情况
 	 * @param filePath
 	 * @return
 	 */
@@ -914,7 +914,7 @@ public class AppUtil {
 		boolean isSearched = false;
 		if (isSPLFile(filePath)) {
 			isSearched = true;
-		} else { // ûк׺ʱҪsplx,spl,dfx˳ļ
+		} else { // 没有后缀时需要按splx,spl,dfx顺序找文件
 			String[] splExts = AppConsts.SPL_FILE_EXTS.split(",");
 			boolean endWithPoint = filePath.endsWith(".");
 			for (String ext : splExts) {
@@ -939,9 +939,9 @@ public class AppUtil {
 	}
 
 	/**
-	 * 쳣ϢתΪַ
+	 * 将异常信息转为字符串
 	 * 
-	 * @param e 쳣
+	 * @param e 异常
 	 * @return String
 	 */
 	public static String getThrowableString(Throwable e) {
@@ -109,7 +109,7 @@ public class Segment {
 	}
 
 	/**
-	 * ȡֵʱȥ
+	 * 取值时不去引号
 	 * 
 	 * @param key
 	 * @return
@@ -450,7 +450,7 @@ public class StringUtils2 {
 	 * @return
 	 */
 	private static boolean canBeFoot(char c) {
-		String cannotFoot = "([{ۣ꣤";
+		String cannotFoot = "([{·‘“〈《「『【〔〖（．［｛￡￥";
 		return cannotFoot.indexOf(c) < 0;
 	}
 
@@ -461,7 +461,7 @@ public class StringUtils2 {
 	 * @return
 	 */
 	private static boolean canBeHead(char c) {
-		String cannotHead = "%!),.:;?]}Dáݣ";
+		String cannotHead = "%％!),.:;?]}¨·ˇˉ―‖’”…∶、。〃々〉》」』】〕〗！＂＇），．：；？］｀｜｝～￠";
 		return cannotHead.indexOf(c) < 0;
 	}
 
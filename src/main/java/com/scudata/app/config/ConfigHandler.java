@@ -23,8 +23,8 @@ public class ConfigHandler extends DefaultHandler {
 	/**
 	 * Version
 	 * 
-	 * version3:ڵеdfxΪspl
-	 * version2:˶·α·CursorParallelNum֮ǰ汾ParallelNumΪCursorParallelNumlogLevelEsprocŲRuntime¡
+	 * version3:节点名称中的dfx改为spl。
+	 * version2:增加了多路游标路数CursorParallelNum。将之前版本的ParallelNum设置为CursorParallelNum。logLevel从Esproc挪到Runtime下。
 	 */
 	protected int version = 3;
 
@@ -452,7 +452,7 @@ public class ConfigHandler extends DefaultHandler {
 				config.setLogLevel(value);
 			}
 		} else if (activeNode == INIT) {
-			if (version < 3) { // ݾɰ汾ڵΪ<dfx>
+			if (version < 3) { // 兼容旧版本节点名为<dfx>
 				if (qName.equalsIgnoreCase("dfx")) {
 					if (config.getInitSpl() == null)
 						config.setInitSpl(value);
@@ -86,7 +86,7 @@ public class ConfigUtil {
 	 * @param in           The input stream
 	 * @param setConfig    Whether to load the configuration. Load when true, not
 	 *                     load when false.
-	 * @param loadFromJDBC ǷJDBCصġtrueʱJDBCLoadüػ
+	 * @param loadFromJDBC 是否从JDBC加载的。true时根据JDBCLoad配置加载环境
 	 * @return
 	 * @throws Exception
 	 */
@@ -99,11 +99,11 @@ public class ConfigUtil {
 	/**
 	 * Read the configuration file from the input stream
 	 * 
-	 * @param home         ڼ·Ŀ¼
+	 * @param home         用于加载相对路径的目录
 	 * @param in           The input stream
 	 * @param setConfig    Whether to load the configuration. Load when true, not
 	 *                     load when false.
-	 * @param loadFromJDBC ǷJDBCصġtrueʱJDBCLoadüػ
+	 * @param loadFromJDBC 是否从JDBC加载的。true时根据JDBCLoad配置加载环境
 	 * @return
 	 * @throws Exception
 	 */
@@ -159,7 +159,7 @@ public class ConfigUtil {
 	 * Read configuration file and set
 	 * 
 	 * @param filePath The file path
-	 * @param loadFrom ǷJDBCصġtrueʱJDBCLoadüػ
+	 * @param loadFrom 是否从JDBC加载的。true时根据JDBCLoad配置加载环境
 	 * @return
 	 * @throws Exception
 	 */
@@ -172,8 +172,8 @@ public class ConfigUtil {
 	 * Read configuration file and set
 	 * 
 	 * @param filePath     The file path
-	 * @param loadFromJDBC ǷJDBCصġtrueʱJDBCLoadüػ
-	 * @param setConfig    Ƿ
+	 * @param loadFromJDBC 是否从JDBC加载的。true时根据JDBCLoad配置加载环境
+	 * @param setConfig    是否设置配置
 	 * @return
 	 * @throws Exception
 	 */
@@ -186,10 +186,10 @@ public class ConfigUtil {
 	/**
 	 * Read configuration file and set
 	 * 
-	 * @param home         ڼ·Ŀ¼
+	 * @param home         用于加载相对路径的目录
 	 * @param filePath     The file path
-	 * @param loadFromJDBC ǷJDBCصġtrueʱJDBCLoadüػ
-	 * @param setConfig    Ƿ
+	 * @param loadFromJDBC 是否从JDBC加载的。true时根据JDBCLoad配置加载环境
+	 * @param setConfig    是否设置配置
 	 * @return
 	 * @throws Exception
 	 */
@@ -238,7 +238,7 @@ public class ConfigUtil {
 	 * @param config       RaqsoftConfig
 	 * @param setLogLevel  Whether to set the log level
 	 * @param loadExt      Whether to load the ext-libs
-	 * @param loadFromJDBC ǷJDBCصġtrueʱJDBCLoadüػ
+	 * @param loadFromJDBC 是否从JDBC加载的。true时根据JDBCLoad配置加载环境
 	 * @throws Exception
 	 */
 	public static void setConfig(ServletContext appCtx, String home,
@@ -256,8 +256,8 @@ public class ConfigUtil {
 	 * @param config       RaqsoftConfig
 	 * @param setLogLevel  Whether to set the log level
 	 * @param loadExt      Whether to load the ext-libs
-	 * @param loadFromJDBC ǷJDBCصġtrueʱJDBCLoadüػ
-	 * @param calcInit     Ƿʼ
+	 * @param loadFromJDBC 是否从JDBC加载的。true时根据JDBCLoad配置加载环境
+	 * @param calcInit     是否计算初始化程序
 	 * @throws Exception
 	 */
 	public static Context setConfig(ServletContext appCtx, String home,
@@ -422,7 +422,7 @@ public class ConfigUtil {
 
 			String customFunctionFile = config.getCustomFunctionFile();
 			if (StringUtils.isValidString(customFunctionFile)) {
-				// Զ庯ļ
+				// 加载自定义函数文件
 				InputStream is = null;
 				try {
 					is = ConfigUtil.getInputStream(home, customFunctionFile,
@@ -608,7 +608,7 @@ public class ConfigUtil {
 	 * 
 	 * @param splPath  The file path of the spl
 	 * @param ctx Context
-	 * @param closeSpace Ƿرspace
+	 * @param closeSpace 是否关闭space
 	 * @return spaceId
 	 * @throws Exception
 	 */
@@ -654,13 +654,13 @@ public class ConfigUtil {
 					"configutil.pathnull"));
 		}
 		InputStream in = null;
-		try { // ·
+		try { // 绝对路径
 			if (IOUtils.isAbsolutePath(path))
 				in = new FileInputStream(path);
 		} catch (Throwable e) {
 		}
 
-		if (in == null) {// ·
+		if (in == null) {// 相对路径
 			String realPath = IOUtils.getPath(home, path);
 			try {
 				if (StringUtils.isValidString(realPath)) {
@@ -672,7 +672,7 @@ public class ConfigUtil {
 			}
 		}
 
-		if (in == null) { // ǰ߳װ
+		if (in == null) { // 当前线程类装载器
 			ClassLoader cl = Thread.currentThread().getContextClassLoader();
 			if (cl != null) {
 				try {
@@ -681,13 +681,13 @@ public class ConfigUtil {
 				}
 			}
 		}
-		if (in == null) {// ǰװ
+		if (in == null) {// 当前类装载器
 			try {
 				in = ConfigUtil.class.getResourceAsStream(path);
 			} catch (Throwable t) {
 			}
 		}
-		if (in == null) {// App
+		if (in == null) {// App查找
 			try {
 				if (app != null)
 					in = app.getResourceAsStream(path);
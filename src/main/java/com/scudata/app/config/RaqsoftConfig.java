@@ -13,7 +13,7 @@ import com.scudata.common.JNDIConfig;
 import com.scudata.common.SpringDBConfig;
 
 /**
- * ļraqsoftConfig.xml
+ * 配置文件raqsoftConfig.xml
  *
  */
 public class RaqsoftConfig implements Cloneable, Externalizable {
@@ -91,7 +91,7 @@ public class RaqsoftConfig implements Cloneable, Externalizable {
 	/** Unit list */
 	private List<String> unitList = null;
 	/** XMLA list */
-	private List<Xmla> xmlaList = null; // άݿ
+	private List<Xmla> xmlaList = null; // 多维数据库配置
 
 	/**
 	 * Constructor
@@ -44,7 +44,7 @@ public final class ArrayUtil {
 	}
 	
 	/**
-	 * ȡԱĲֵ
+	 * 取数组成员的布尔值组成新数组
 	 * @param array
 	 * @param value
 	 * @return
@@ -63,21 +63,21 @@ public final class ArrayUtil {
 	}
 	
 	/**
-	 * ĳԱnullĹϵ
-	 * @param signs ԱǷΪձ־trueΪ
-	 * @param size Ա
-	 * @param relation ȽϹϵ
-	 * @return BoolArray Ƚֵ
+	 * 计算数组的成员和null的关系
+	 * @param signs 数组成员是否为空标志，true为空
+	 * @param size 数组成员数
+	 * @param relation 比较关系
+	 * @return BoolArray 比较值数组
 	 */
 	public static BoolArray calcRelationNull(boolean []signs, int size, int relation) {
 		boolean []resultDatas = new boolean[size + 1];		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (signs != null) {
 				System.arraycopy(signs, 1, resultDatas, 1, size);
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (signs == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = true;
@@ -90,19 +90,19 @@ public final class ArrayUtil {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = true;
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (signs != null) {
 				System.arraycopy(signs, 1, resultDatas, 1, size);
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (signs == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = true;
@@ -132,44 +132,44 @@ public final class ArrayUtil {
 	}
 	
 	/**
-	 * ĳԱnullȽ
-	 * @param datas 
-	 * @param size Ա
-	 * @param relation ȽϹϵ
-	 * @return BoolArray Ƚֵ
+	 * 数组的成员和null做比较
+	 * @param datas 数组
+	 * @param size 数组成员数
+	 * @param relation 比较关系
+	 * @return BoolArray 比较值数组
 	 */
 	public static BoolArray calcRelationNull(Object []datas, int size, int relation) {
 		boolean []resultDatas = new boolean[size + 1];		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			for (int i = 1; i <= size; ++i) {
 				if (datas[i] == null) {
 					resultDatas[i] = true;
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			for (int i = 1; i <= size; ++i) {
 				if (datas[i] != null) {
 					resultDatas[i] = true;
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = true;
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			for (int i = 1; i <= size; ++i) {
 				if (datas[i] == null) {
 					resultDatas[i] = true;
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			for (int i = 1; i <= size; ++i) {
 				if (datas[i] != null) {
 					resultDatas[i] = true;
@@ -187,19 +187,19 @@ public final class ArrayUtil {
 	}
 	
 	/**
-	 * ĳԱnullĹϵ
-	 * @param signs ԱǷΪձ־trueΪ
-	 * @param size Ա
-	 * @param relation ȽϹϵ
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算数组的成员和null的关系
+	 * @param signs 数组成员是否为空标志，true为空
+	 * @param size 数组成员数
+	 * @param relation 比较关系
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public static void calcRelationsNull(boolean []signs, int size, int relation, BoolArray result, boolean isAnd) {
 		boolean []resultDatas = result.getDatas();
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (signs == null) {
 					for (int i = 1; i <= size; ++i) {
 						resultDatas[i] = false;
@@ -212,7 +212,7 @@ public final class ArrayUtil {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (signs != null) {
 					for (int i = 1; i <= size; ++i) {
 						if (signs[i]) {
@@ -221,14 +221,14 @@ public final class ArrayUtil {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = false;
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (signs != null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!signs[i]) {
@@ -237,7 +237,7 @@ public final class ArrayUtil {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (signs != null) {
 					for (int i = 1; i <= size; ++i) {
 						if (signs[i]) {
@@ -249,9 +249,9 @@ public final class ArrayUtil {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (signs != null) {
 					for (int i = 1; i <= size; ++i) {
 						if (signs[i]) {
@@ -260,7 +260,7 @@ public final class ArrayUtil {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (signs == null) {
 					for (int i = 1; i <= size; ++i) {
 						resultDatas[i] = true;
@@ -273,14 +273,14 @@ public final class ArrayUtil {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = true;
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (signs != null) {
 					for (int i = 1; i <= size; ++i) {
 						if (signs[i]) {
@@ -289,7 +289,7 @@ public final class ArrayUtil {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (signs == null) {
 					for (int i = 1; i <= size; ++i) {
 						resultDatas[i] = true;
@@ -308,47 +308,47 @@ public final class ArrayUtil {
 	}
 	
 	/**
-	 * ĳԱnullȽ
-	 * @param datas 
-	 * @param size Ա
-	 * @param relation ȽϹϵ
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 数组的成员和null做比较
+	 * @param datas 数组
+	 * @param size 数组成员数
+	 * @param relation 比较关系
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public static void calcRelationsNull(Object []datas, int size, int relation, BoolArray result, boolean isAnd) {
 		boolean []resultDatas = result.getDatas();	
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas[i] != null) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas[i] == null) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = false;
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas[i] != null) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas[i] == null) {
 						resultDatas[i] = false;
@@ -358,37 +358,37 @@ public final class ArrayUtil {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas[i] == null) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas[i] != null) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = true;
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas[i] == null) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas[i] != null) {
 						resultDatas[i] = true;
@@ -401,7 +401,7 @@ public final class ArrayUtil {
 	}
 	
 	/**
-	 * ȡгԱ
+	 * 取余或序列成员异或列
 	 * @param o1 Object
 	 * @param o2 Object
 	 * @return Object
@@ -451,7 +451,7 @@ public final class ArrayUtil {
 	}
 	
 	/**
-	 * гԱ
+	 * 整出或序列成员差集
 	 * @param o1 Object
 	 * @param o2 Object
 	 * @return Object
@@ -15,16 +15,16 @@ import com.scudata.thread.MultithreadUtil;
 import com.scudata.util.Variant;
 
 /**
- * 飬1ʼ
+ * 布尔数组，从1开始计数
  * @author LW
  *
  */
 public class BoolArray implements IArray {
 	private static final long serialVersionUID = 1L;
-	private static final byte NULL_SIGN = 60; // лʱʾsignsǷΪ
+	private static final byte NULL_SIGN = 60; // 用于序列化时表示signs是否为空
 
-	private boolean []datas; // 0ԪرʾǷʱ
-	private boolean []signs; // ʾӦλõԪǷnullnullԱʱŲ
+	private boolean []datas; // 第0个元素表示是否是临时数组
+	private boolean []signs; // 表示相应位置的元素是否是null，有null成员时才产生
 	private int size;
 	
 	public BoolArray() {
@@ -66,8 +66,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ȡʹڴϢʾ
-	 * @return ʹ
+	 * 取数组的类型串，用于错误信息提示
+	 * @return 类型串
 	 */
 	public String getDataType() {
 		MessageManager mm = EngineMessage.get();
@@ -75,7 +75,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * 
+	 * 复制数组
 	 * @return
 	 */
 	public IArray dup() {
@@ -93,8 +93,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * дݵ
-	 * @param out 
+	 * 写内容到流
+	 * @param out 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -121,8 +121,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ж
-	 * @param in 
+	 * 从流中读内容
+	 * @param in 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -190,7 +190,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * һͬ͵
+	 * 返回一个同类型的数组
 	 * @param count
 	 * @return
 	 */
@@ -199,8 +199,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ׷ԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素，如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void add(Object o) {
 		if (o instanceof Boolean) {
@@ -221,8 +221,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(IArray array) {
 		int size2 = array.size();
@@ -274,9 +274,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
-	 * @param count Ԫظ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
+	 * @param count 元素个数
 	 */
 	public void addAll(IArray array, int count) {
 		if (count == 0) {
@@ -327,8 +327,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(Object []array) {
 		for (Object obj : array) {
@@ -358,9 +358,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ԪأͲ׳쳣
-	 * @param index λã1ʼ
-	 * @param o Ԫֵ
+	 * 插入元素，如果类型不兼容则抛出异常
+	 * @param index 插入位置，从1开始计数
+	 * @param o 元素值
 	 */
 	public void insert(int index, Object o) {
 		if (o instanceof Boolean) {
@@ -395,9 +395,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, IArray array) {
 		if (array instanceof BoolArray) {
@@ -435,9 +435,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, Object []array) {
 		boolean containNull = false;
@@ -487,8 +487,8 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ׷ԪأΪ㹻ռԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素），如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void push(Object o) {
 		if (o instanceof Boolean) {
@@ -507,9 +507,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void push(IArray array, int index) {
 		if (array instanceof BoolArray) {
@@ -530,9 +530,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void add(IArray array, int index) {
 		if (array.isNull(index)) {
@@ -553,10 +553,10 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪǰָԪأͲ׳쳣
-	 * @param curIndex ǰԪ1ʼ
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素设给到当前数组的指定元素，如果类型不兼容则抛出异常
+	 * @param curIndex 当前数组的元素索引，从1开始计数
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void set(int curIndex, IArray array, int index) {
 		if (array.isNull(index)) {
@@ -573,8 +573,8 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ׷Ԫ
-	 * @param b ֵ
+	 * 追加元素
+	 * @param b 值
 	 */
 	public void addBool(boolean b) {
 		ensureCapacity(size + 1);
@@ -582,23 +582,23 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ׷ԪأΪ㹻ռԪأ
-	 * @param n ֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素）
+	 * @param n 值
 	 */
 	public void push(boolean n) {
 		datas[++size] = n;
 	}
 	
 	/**
-	 * ׷ԪأΪ㹻ռԪأ
-	 * @param n ֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素）
+	 * @param n 值
 	 */
 	public void pushBool(boolean n) {
 		datas[++size] = n;
 	}
 	
 	/**
-	 * ׷ӿԪ
+	 * 追加空元素
 	 */
 	public void pushNull() {
 		if (signs == null) {
@@ -609,8 +609,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param index 1ʼ
+	 * 取指定位置元素
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public Object get(int index) {
@@ -622,8 +622,8 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ȡָλԪ
-	 * @param index 1ʼ
+	 * 取指定位置元素
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean getBool(int index) {
@@ -631,26 +631,26 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ȡָλԪصֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的整数值
+	 * @param index 索引，从1开始计数
+	 * @return 长整数值
 	 */
 	public int getInt(int index) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ȡָλԪصĳֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的长整数值
+	 * @param index 索引，从1开始计数
+	 * @return 长整数值
 	 */
 	public long getLong(int index) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray) {
@@ -677,11 +677,11 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
-	 * @param start ʼλã
-	 * @param end λã
-	 * @param doCheck trueλÿܰ00λnull䣬false0
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，包含
+	 * @param doCheck true：位置可能包含0，0的位置用null填充，false：不会包含0
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray, int start, int end, boolean doCheck) {
@@ -731,8 +731,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param NumberArray λ
+	 * 取指定位置元素组成新数组
+	 * @param NumberArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(NumberArray indexArray) {
@@ -760,9 +760,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ȡĳһ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 取某一区段组成新数组
+	 * @param start 起始位置（包括）
+	 * @param end 结束位置（不包括）
 	 * @return IArray
 	 */
 	public IArray get(int start, int end) {
@@ -780,8 +780,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ʹбСminCapacity
-	 * @param minCapacity С
+	 * 使列表的容量不小于minCapacity
+	 * @param minCapacity 最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 		if (datas.length <= minCapacity) {
@@ -803,7 +803,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ʹԪ
+	 * 调整容量，使其与元素数相等
 	 */
 	public void trimToSize() {
 		int newLen = size + 1;
@@ -821,8 +821,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жָλõԪǷǿ
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是空
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isNull(int index) {
@@ -830,7 +830,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷTrue
+	 * 判断元素是否是True
 	 * @return BoolArray
 	 */
 	public BoolArray isTrue() {
@@ -863,7 +863,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷǼ
+	 * 判断元素是否是假
 	 * @return BoolArray
 	 */
 	public BoolArray isFalse() {
@@ -888,8 +888,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жָλõԪǷTrue
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是True
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isTrue(int index) {
@@ -897,8 +897,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жָλõԪǷFalse
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是False
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isFalse(int index) {
@@ -906,23 +906,23 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ǷǼʱ飬ʱĿԱ޸ģ f1+f2+f3ֻһŽ
-	 * @return trueʱ飬falseʱ
+	 * 是否是计算过程中临时产生的数组，临时产生的可以被修改，比如 f1+f2+f3，只需产生一个数组存放结果
+	 * @return true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public boolean isTemporary() {
 		return datas[0];
 	}
 
 	/**
-	 * ǷǼʱ
-	 * @param ifTemporary trueʱ飬falseʱ
+	 * 设置是否是计算过程中临时产生的数组
+	 * @param ifTemporary true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public void setTemporary(boolean ifTemporary) {
 		datas[0] = ifTemporary;
 	}
 	
 	/**
-	 * ɾһԪ
+	 * 删除最后一个元素
 	 */
 	public void removeLast() {
 		if (signs != null) {
@@ -933,8 +933,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ɾָλõԪ
-	 * @param index 1ʼ
+	 * 删除指定位置的元素
+	 * @param index 索引，从1开始计数
 	 */
 	public void remove(int index) {
 		System.arraycopy(datas, index + 1, datas, index, size - index);
@@ -947,9 +947,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ɾָڵԪ
-	 * @param from ʼλã
-	 * @param to λã
+	 * 删除指定区间内的元素
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 */
 	public void removeRange(int fromIndex, int toIndex) {
 		System.arraycopy(datas, toIndex + 1, datas, fromIndex, size - toIndex);
@@ -964,8 +964,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ɾָλõԪأŴС
-	 * @param seqs 
+	 * 删除指定位置的元素，序号从小到大排序
+	 * @param seqs 索引数组
 	 */
 	public void remove(int []seqs) {
 		int delCount = 0;
@@ -1003,9 +1003,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ָڵ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 保留指定区间内的数据
+	 * @param start 起始位置（包含）
+	 * @param end 结束位置（包含）
 	 */
 	public void reserve(int start, int end) {
 		int newSize = end - start + 1;
@@ -1025,8 +1025,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ȡֵΪԪĿ
-	 * @return ȡֵΪԪĿ
+	 * 返回数组取值为真的元素数目
+	 * @return 取值为真的元素数目
 	 */
 	public int count() {
 		boolean []datas = this.datas;
@@ -1052,8 +1052,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жǷȡֵΪtrueԪ
-	 * @return trueУfalseû
+	 * 判断数组是否有取值为true的元素
+	 * @return true：有，false：没有
 	 */
 	public boolean containTrue() {
 		boolean []datas = this.datas;
@@ -1078,7 +1078,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * صһΪյԪ
+	 * 返回第一个不为空的元素
 	 * @return Object
 	 */
 	public Object ifn() {
@@ -1109,9 +1109,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ޸ָԪصֵͲ׳쳣
-	 * @param index 1ʼ
-	 * @param obj ֵ
+	 * 修改数组指定元素的值，如果类型不兼容则抛出异常
+	 * @param index 索引，从1开始计数
+	 * @param obj 值
 	 */
 	public void set(int index, Object obj) {
 		if (obj == null) {
@@ -1133,7 +1133,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ɾеԪ
+	 * 删除所有的元素
 	 */
 	public void clear() {
 		signs = null;
@@ -1141,9 +1141,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @return int Ԫص,ڷظĲλ.
+	 * @return int 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem) {
 		if (elem instanceof Boolean) {
@@ -1171,7 +1171,7 @@ public class BoolArray implements IArray {
 						}
 					}
 					
-					// ԪȫΪ
+					// 数组元素全部为空
 					return -size - 1;
 				}
 			}
@@ -1189,11 +1189,11 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @param start ʼλã
-	 * @param end λã
-	 * @return Ԫص,ڷظĲλ.
+	 * @param start 起始查找位置（包含）
+	 * @param end 结束查找位置（包含）
+	 * @return 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem, int start, int end) {
 		if (elem instanceof Boolean) {
@@ -1220,7 +1220,7 @@ public class BoolArray implements IArray {
 						}
 					}
 					
-					// ԪȫΪ
+					// 数组元素全部为空
 					return -end - 1;
 				}
 			}
@@ -1238,9 +1238,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * бǷָԪ
-	 * @param elem Object ҵԪ
-	 * @return boolean truefalse
+	 * 返回列表中是否包含指定元素
+	 * @param elem Object 待查找的元素
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object elem) {
 		if (elem instanceof Boolean) {
@@ -1284,10 +1284,10 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷڵǰ
-	 * @param isSorted ǰǷ
-	 * @param array 
-	 * @param result ڴŽֻȡֵΪtrue
+	 * 判断数组的元素是否在当前数组中
+	 * @param isSorted 当前数组是否有序
+	 * @param array 数组
+	 * @param result 用于存放结果，只找取值为true的
 	 */
 	public void contains(boolean isSorted, IArray array, BoolArray result) {
 		int resultSize = result.size();
@@ -1307,19 +1307,19 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * бǷָԪأʹõȺűȽ
+	 * 返回列表中是否包含指定元素，使用等号比较
 	 * @param elem
-	 * @return boolean truefalse
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean objectContains(Object elem) {
 		return false;
 	}
 	
 	/**
-	 * Ԫ״γֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中首次出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int firstIndexOf(Object elem, int start) {
 		if (elem instanceof Boolean) {
@@ -1362,10 +1362,10 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * Ԫֵλ
-	 * @param elem ҵԪ
-	 * @param start Ӻ濪ʼҵλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中最后出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 从后面开始查找的位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int lastIndexOf(Object elem, int start) {
 		if (elem instanceof Boolean) {
@@ -1406,11 +1406,11 @@ public class BoolArray implements IArray {
 		}
 	}
 	/**
-	 * Ԫгֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @param isSorted ǰǷ
-	 * @param isFromHead trueͷʼfalseβǰʼ
+	 * 返回元素在数组中所有出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @param isSorted 当前数组是否有序
+	 * @param isFromHead true：从头开始遍历，false：从尾向前开始遍历
 	 * @return IntArray
 	 */
 	public IntArray indexOfAll(Object elem, int start, boolean isSorted, boolean isFromHead) {
@@ -1496,8 +1496,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * Աֵ
-	 * @return IArray ֵ
+	 * 对数组成员求绝对值
+	 * @return IArray 绝对值数组
 	 */
 	public IArray abs() {
 		MessageManager mm = EngineMessage.get();
@@ -1505,8 +1505,8 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求负
+	 * @return IArray 负值数组
 	 */
 	public IArray negate() {
 		MessageManager mm = EngineMessage.get();
@@ -1514,8 +1514,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求非
+	 * @return IArray 非值数组
 	 */
 	public IArray not() {
 		boolean []datas = this.datas;
@@ -1554,17 +1554,17 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жĳԱǷ԰null
-	 * @return truefalseзֵ
+	 * 判断数组的成员是否都是数（可以包含null）
+	 * @return true：都是数，false：含有非数的值
 	 */
 	public boolean isNumberArray() {
 		return false;
 	}
 	
 	/**
-	 * ӦĳԱĺ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的和
+	 * @param array 右侧数组
+	 * @return 和数组
 	 */
 	public IArray memberAdd(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1573,9 +1573,9 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ĳԱָĺ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的和
+	 * @param value 常数
+	 * @return 和数组
 	 */
 	public IArray memberAdd(Object value) {
 		MessageManager mm = EngineMessage.get();
@@ -1584,9 +1584,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱĲ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的差
+	 * @param array 右侧数组
+	 * @return 差数组
 	 */
 	public IArray memberSubtract(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1595,9 +1595,9 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĻ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的积
+	 * @param array 右侧数组
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1606,9 +1606,9 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ĳԱָĻ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的积
+	 * @param value 常数
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(Object value) {
 		MessageManager mm = EngineMessage.get();
@@ -1617,9 +1617,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱĳ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的除
+	 * @param array 右侧数组
+	 * @return 商数组
 	 */
 	public IArray memberDivide(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1628,9 +1628,9 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ӦԱȡгԱ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的数成员取余或序列成员异或列
+	 * @param array 右侧数组
+	 * @return 余数数组或序列异或列数组
 	 */
 	public IArray memberMod(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1639,9 +1639,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ԱгԱ
-	 * @param array Ҳ
-	 * @return ֵв
+	 * 计算两个数组的数成员整除或序列成员差集
+	 * @param array 右侧数组
+	 * @return 整除值数组或序列差集数组
 	 */
 	public IArray memberIntDivide(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1650,10 +1650,10 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(IArray array, int relation) {
 		if (array instanceof BoolArray) {
@@ -1678,10 +1678,10 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(Object value, int relation) {
 		if (value instanceof Boolean) {
@@ -1782,7 +1782,7 @@ public class BoolArray implements IArray {
 		}
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -1817,7 +1817,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -1852,7 +1852,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -1887,7 +1887,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -1922,7 +1922,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -1957,7 +1957,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -2283,10 +2283,10 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ȽָָĴСnullС
-	 * @param b1 ֵ
-	 * @param o2 ֵ
-	 * @return 1ֵ0ͬ-1ֵ
+	 * 比较指定数和指定对象的大小，null最小
+	 * @param b1 左值
+	 * @param o2 右值
+	 * @return 1：左值大，0：同样大，-1：右值大
 	 */
 	private static int compare(boolean b1, Object o2) {
 		if (o2 instanceof Boolean) {
@@ -2319,7 +2319,7 @@ public class BoolArray implements IArray {
 		}
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) == 0;
@@ -2334,7 +2334,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) > 0;
@@ -2349,7 +2349,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) >= 0;
@@ -2364,7 +2364,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) < 0;
@@ -2379,7 +2379,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) <= 0;
@@ -2394,7 +2394,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) != 0;
@@ -2451,7 +2451,7 @@ public class BoolArray implements IArray {
 		}
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Variant.compare(d1[i], value) == 0;
@@ -2466,7 +2466,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Variant.compare(d1[i], value) > 0;
@@ -2481,7 +2481,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Variant.compare(d1[i], value) >= 0;
@@ -2496,7 +2496,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Variant.compare(d1[i], value) < 0;
@@ -2511,7 +2511,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Variant.compare(d1[i], value) <= 0;
@@ -2526,7 +2526,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Variant.compare(d1[i], value) != 0;
@@ -2591,7 +2591,7 @@ public class BoolArray implements IArray {
 		}
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (signs != null) {
 				System.arraycopy(signs, 1, resultDatas, 1, size);
 			} else if (resultDatas == datas) {
@@ -2600,7 +2600,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (signs == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = true;
@@ -2611,19 +2611,19 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = true;
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (resultDatas == datas) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = false;
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (signs != null) {
 				System.arraycopy(signs, 1, resultDatas, 1, size);
 			} else if (resultDatas == datas) {
@@ -2632,7 +2632,7 @@ public class BoolArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (signs == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = true;
@@ -2664,9 +2664,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ȽĴС
-	 * @param array Ҳ
-	 * @return 1ǰ0ȣ-1ǰС
+	 * 比较两个数组的大小
+	 * @param array 右侧数组
+	 * @return 1：当前数组大，0：两个数组相等，-1：当前数组小
 	 */
 	public int compareTo(IArray array) {
 		int size1 = this.size;
@@ -2755,9 +2755,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * 2ԱıȽֵ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 计算数组的2个成员的比较值
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public int memberCompare(int index1, int index2) {
@@ -2773,9 +2773,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жԱǷ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 判断数组的两个成员是否相等
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public boolean isMemberEquals(int index1, int index2) {
@@ -2791,11 +2791,11 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жָԪǷͬ
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return trueͬfalseͬ
+	 * 判断两个数组的指定元素是否相同
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return true：相同，false：不相同
 	 */
 	public boolean isEquals(int curIndex, IArray array, int index) {
 		if (isNull(curIndex)) {
@@ -2811,10 +2811,10 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жָԪǷֵ
-	 * @param curIndex Ԫ1ʼ
-	 * @param value ֵ
-	 * @return trueȣfalse
+	 * 判断数组的指定元素是否与给定值相等
+	 * @param curIndex 数组元素索引，从1开始计数
+	 * @param value 值
+	 * @return true：相等，false：不相等
 	 */
 	public boolean isEquals(int curIndex, Object value) {
 		if (value instanceof Boolean) {
@@ -2831,11 +2831,11 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * жָԪصĴС
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return СڣС0ڣ0ڣ0
+	 * 判断两个数组的指定元素的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return 小于：小于0，等于：0，大于：大于0
 	 */
 	public int compareTo(int curIndex, IArray array, int index) {
 		if (isNull(curIndex)) {
@@ -2850,9 +2850,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ȽָԪֵĴС
-	 * @param curIndex ǰԪص
-	 * @param value ҪȽϵֵ
+	 * 比较数组的指定元素与给定值的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param value 要比较的值
 	 * @return
 	 */
 	public int compareTo(int curIndex, Object value) {
@@ -2866,9 +2866,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ȡָԱĹϣֵ
-	 * @param index Ա1ʼ
-	 * @return ָԱĹϣֵ
+	 * 取指定成员的哈希值
+	 * @param index 成员索引，从1开始计数
+	 * @return 指定成员的哈希值
 	 */
 	public int hashCode(int index) {
 		if (signs == null || !signs[index]) {
@@ -2879,7 +2879,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * Ա
+	 * 求成员和
 	 * @return
 	 */
 	public Object sum() {
@@ -2887,7 +2887,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ƽֵ
+	 * 求平均值
 	 * @return
 	 */
 	public Object average() {
@@ -2895,7 +2895,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * õĳԱ
+	 * 得到最大的成员
 	 * @return
 	 */
 	public Object max() {
@@ -2927,7 +2927,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * õСĳԱ
+	 * 得到最小的成员
 	 * @return
 	 */
 	public Object min() {
@@ -2959,11 +2959,11 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(IArray array, int relation, BoolArray result, boolean isAnd) {
 		if (array == this) {
@@ -2981,11 +2981,11 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(Object value, int relation, BoolArray result, boolean isAnd) {
 		if (value instanceof Boolean) {
@@ -3008,9 +3008,9 @@ public class BoolArray implements IArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3039,7 +3039,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3068,7 +3068,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3097,7 +3097,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3126,7 +3126,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3155,7 +3155,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3187,9 +3187,9 @@ public class BoolArray implements IArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3218,7 +3218,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3247,7 +3247,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3276,7 +3276,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3305,7 +3305,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3334,7 +3334,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -3375,9 +3375,9 @@ public class BoolArray implements IArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] != value) {
@@ -3392,7 +3392,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Variant.compare(d1[i], value) <= 0) {
@@ -3407,7 +3407,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Variant.compare(d1[i], value) < 0) {
@@ -3422,7 +3422,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Variant.compare(d1[i], value) >= 0) {
@@ -3437,7 +3437,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Variant.compare(d1[i], value) > 0) {
@@ -3452,7 +3452,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] == value) {
@@ -3470,9 +3470,9 @@ public class BoolArray implements IArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] == value) {
@@ -3487,7 +3487,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Variant.compare(d1[i], value) > 0) {
@@ -3502,7 +3502,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Variant.compare(d1[i], value) >= 0) {
@@ -3517,7 +3517,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Variant.compare(d1[i], value) < 0) {
@@ -3532,7 +3532,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Variant.compare(d1[i], value) <= 0) {
@@ -3547,7 +3547,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] != value) {
@@ -3575,9 +3575,9 @@ public class BoolArray implements IArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) != 0) {
@@ -3592,7 +3592,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) <= 0) {
@@ -3607,7 +3607,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) < 0) {
@@ -3622,7 +3622,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) >= 0) {
@@ -3637,7 +3637,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) > 0) {
@@ -3652,7 +3652,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) == 0) {
@@ -3670,9 +3670,9 @@ public class BoolArray implements IArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) == 0) {
@@ -3688,7 +3688,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) > 0) {
@@ -3703,7 +3703,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) >= 0) {
@@ -3718,7 +3718,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) < 0) {
@@ -3733,7 +3733,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) <= 0) {
@@ -3748,7 +3748,7 @@ public class BoolArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) != 0) {
@@ -3769,9 +3769,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱİλ
-	 * @param array Ҳ
-	 * @return λ
+	 * 计算两个数组的相对应的成员的按位与
+	 * @param array 右侧数组
+	 * @return 按位与结果数组
 	 */
 	public IArray bitwiseAnd(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -3779,8 +3779,8 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ȡʶȡֵΪжӦݣ
-	 * @param signArray ʶ
+	 * 取出标识数组取值为真的行对应的数据，组成新数组
+	 * @param signArray 标识数组
 	 * @return IArray
 	 */
 	public IArray select(IArray signArray) {
@@ -3836,10 +3836,10 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * arrayָԪؼӵǰָԪ
-	 * @param curIndex ǰԪص
-	 * @param array Ҫӵ
-	 * @param index ҪӵԪص
+	 * 把array的指定元素加到当前数组的指定元素上
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要相加的数组
+	 * @param index 要相加的数组的元素的索引
 	 * @return IArray
 	 */
 	public IArray memberAdd(int curIndex, IArray array, int index) {
@@ -3849,8 +3849,8 @@ public class BoolArray implements IArray {
 	}	
 	
 	/**
-	 * ѳԱתɶ鷵
-	 * @return 
+	 * 把成员转成对象数组返回
+	 * @return 对象数组
 	 */
 	public Object[] toArray() {
 		int size = this.size;
@@ -3874,8 +3874,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ѳԱָ
-	 * @param result ڴųԱ
+	 * 把成员填到指定的数组
+	 * @param result 用于存放成员的数组
 	 */
 	public void toArray(Object []result) {
 		int size = this.size;
@@ -3896,9 +3896,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ָλò
-	 * @param pos λã
-	 * @return غ벿Ԫعɵ
+	 * 把数组从指定位置拆成两个数组
+	 * @param pos 位置，包含
+	 * @return 返回后半部分元素构成的数组
 	 */
 	public IArray split(int pos) {
 		int size = this.size;
@@ -3923,9 +3923,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ָԪط
-	 * @param from ʼλã
-	 * @param to λã
+	 * 把指定区间元素分离出来组成新数组
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 * @return
 	 */
 	public IArray split(int from, int to) {
@@ -3951,7 +3951,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * Ԫؽ
+	 * 对数组的元素进行排序
 	 */
 	public void sort() {
 		int size = this.size;
@@ -4002,8 +4002,8 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * Ԫؽ
-	 * @param comparator Ƚ
+	 * 对数组的元素进行排序
+	 * @param comparator 比较器
 	 */
 	public void sort(Comparator<Object> comparator) {
 		int size = this.size;
@@ -4042,7 +4042,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * Ƿм¼
+	 * 返回数组中是否含有记录
 	 * @return boolean
 	 */
 	public boolean hasRecord() {
@@ -4050,16 +4050,16 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * Ƿǣ
-	 * @param isPure trueǷǴ
-	 * @return boolean trueǣfalse
+	 * 返回是否是（纯）排列
+	 * @param isPure true：检查是否是纯排列
+	 * @return boolean true：是，false：不是
 	 */
 	public boolean isPmt(boolean isPure) {
 		return false;
 	}
 	
 	/**
-	 * ķת
+	 * 返回数组的反转数组
 	 * @return IArray
 	 */
 	public IArray rvs() {
@@ -4089,10 +4089,10 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ԪشСȡǰcountλ
-	 * @param count countС0ȡ|count|λ
-	 * @param isAll countΪ1ʱisAllȡֵΪtrueȡһԪصλãֻȡһ
-	 * @param isLast ǷӺʼ
+	 * 对数组元素从小到大做排名，取前count名的位置
+	 * @param count 如果count小于0则取后|count|名的位置
+	 * @param isAll count为正负1时，如果isAll取值为true则取所有排名第一的元素的位置，否则只取一个
+	 * @param isLast 是否从后开始找
 	 * @param ignoreNull
 	 * @return IntArray
 	 */
@@ -4105,7 +4105,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ѵǰתɶ飬ǰǶ򷵻鱾
+	 * 把当前数组转成对象数组，如果当前数组是对象数组则返回数组本身
 	 * @return ObjectArray
 	 */
 	public ObjectArray toObjectArray() {
@@ -4130,7 +4130,7 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * Ѷתɴ飬ת׳쳣
+	 * 把对象数组转成纯类型数组，不能转则抛出异常
 	 * @return IArray
 	 */
 	public IArray toPureArray() {
@@ -4138,8 +4138,8 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * л
-	 * @param refOrigin ԴУ
+	 * 保留数组数据用于生成序列或序表
+	 * @param refOrigin 引用源列，不复制数据
 	 * @return
 	 */
 	public IArray reserve(boolean refOrigin) {
@@ -4154,9 +4154,9 @@ public class BoolArray implements IArray {
 	}
 	
 	/**
-	 * ѡԱ飬ӵǰѡ־Ϊtrueģotherѡ־Ϊfalse
-	 * @param signArray ־
-	 * @param other һ
+	 * 根据条件从两个数组选出成员组成新数组，从当前数组选出标志为true的，从other数组选出标志为false的
+	 * @param signArray 标志数组
+	 * @param other 另一个数组
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, IArray other) {
@@ -4250,9 +4250,9 @@ public class BoolArray implements IArray {
 	}
 
 	/**
-	 * ӵǰѡ־Ϊtrueģ־Ϊfalseóvalue
-	 * @param signArray ־
-	 * @param other ֵ
+	 * 根据条件从当前数组选出标志为true的，标志为false的置成value
+	 * @param signArray 标志数组
+	 * @param other 值
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, Object value) {
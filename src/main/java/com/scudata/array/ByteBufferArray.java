@@ -12,18 +12,18 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * Stringһʵ֣byte[]ƫƣ Stringֵ
- * ֱֻ֧ʽ˼㣬֧еļ
- * ֻʽαڲʱáᱻȡ
+ * String数组类的另一种实现，用byte[]，偏移，长度 保存所有String的值。
+ * 只支持表达式过滤计算，不支持与其它列的计算
+ * 只在列式游标内部过滤时用。不会被取出。
  * @author LW
  *
  */
 public class ByteBufferArray implements IArray {
 	private static final long serialVersionUID = 1L;
 	
-	private byte[] buffer;//õ
-	private int[] pos;//ÿԪbufferĿʼλ
-	private byte[] len;//ÿԪbufferĳ
+	private byte[] buffer;//共用的数组
+	private int[] pos;//每个元素在buffer的开始位置
+	private byte[] len;//每个元素在buffer的长度
 	private int size;
 		
 	public ByteBufferArray(byte[] buffer, int[] pos, byte[] len, int size) {
@@ -108,15 +108,15 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ȡʹڴϢʾ
-	 * @return ʹ
+	 * 取数组的类型串，用于错误信息提示
+	 * @return 类型串
 	 */
 	public String getDataType() {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * 
+	 * 复制数组
 	 * @return
 	 */
 	public IArray dup() {
@@ -124,8 +124,8 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * дݵ
-	 * @param out 
+	 * 写内容到流
+	 * @param out 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -133,8 +133,8 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ж
-	 * @param in 
+	 * 从流中读内容
+	 * @param in 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -151,7 +151,7 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * һͬ͵
+	 * 返回一个同类型的数组
 	 * @param count
 	 * @return
 	 */
@@ -160,60 +160,60 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ׷ԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素，如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void add(Object o) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(IArray array) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
-	 * @param count Ԫظ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
+	 * @param count 元素个数
 	 */
 	public void addAll(IArray array, int count) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(Object []array) {
 		throw new RuntimeException();
 	}
 
 	/**
-	 * ԪأͲ׳쳣
-	 * @param index λã1ʼ
-	 * @param o Ԫֵ
+	 * 插入元素，如果类型不兼容则抛出异常
+	 * @param index 插入位置，从1开始计数
+	 * @param o 元素值
 	 */
 	public void insert(int index, Object o) {
 		throw new RuntimeException();
 	}
 
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, IArray array) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, Object []array) {
 		throw new RuntimeException();
@@ -228,51 +228,51 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ׷ԪأΪ㹻ռԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素），如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void push(Object o) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ׷һճԱΪ㹻ռԪأ
+	 * 追加一个空成员（不检查容量，认为有足够空间存放元素）
 	 */
 	public void pushNull() {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void push(IArray array, int index) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void add(IArray array, int index) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * arrayеĵindexԪǰָԪأͲ׳쳣
-	 * @param curIndex ǰԪ1ʼ
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素设给到当前数组的指定元素，如果类型不兼容则抛出异常
+	 * @param curIndex 当前数组的元素索引，从1开始计数
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void set(int curIndex, IArray array, int index) {
 		throw new RuntimeException();
 	}
 
 	/**
-	 * ȡָλԪ
-	 * @param index 1ʼ
+	 * 取指定位置元素
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public Object get(int index) {
@@ -280,26 +280,26 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ȡָλԪصֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的整数值
+	 * @param index 索引，从1开始计数
+	 * @return 长整数值
 	 */
 	public int getInt(int index) {
 		throw new RuntimeException();
 	}
 
 	/**
-	 * ȡָλԪصĳֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的长整数值
+	 * @param index 索引，从1开始计数
+	 * @return 长整数值
 	 */
 	public long getLong(int index) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray) {
@@ -307,11 +307,11 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
-	 * @param start ʼλã
-	 * @param end λã
-	 * @param doCheck trueλÿܰ00λnull䣬false0
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，包含
+	 * @param doCheck true：位置可能包含0，0的位置用null填充，false：不会包含0
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray, int start, int end, boolean doCheck) {
@@ -319,8 +319,8 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param NumberArray λ
+	 * 取指定位置元素组成新数组
+	 * @param NumberArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(NumberArray indexArray) {
@@ -328,9 +328,9 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ȡĳһ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 取某一区段组成新数组
+	 * @param start 起始位置（包括）
+	 * @param end 结束位置（不包括）
 	 * @return IArray
 	 */
 	public IArray get(int start, int end) {
@@ -338,23 +338,23 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ʹбСminCapacity
-	 * @param minCapacity С
+	 * 使列表的容量不小于minCapacity
+	 * @param minCapacity 最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ʹԪ
+	 * 调整容量，使其与元素数相等
 	 */
 	public void trimToSize() {
 		throw new RuntimeException();
 	}
 
 	/**
-	 * жָλõԪǷǿ
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是空
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isNull(int index) {
@@ -362,7 +362,7 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷTrue
+	 * 判断元素是否是True
 	 * @return BoolArray
 	 */
 	public BoolArray isTrue() {
@@ -380,7 +380,7 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷǼ
+	 * 判断元素是否是假
 	 * @return BoolArray
 	 */
 	public BoolArray isFalse() {
@@ -398,76 +398,76 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * жָλõԪǷTrue
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是True
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isTrue(int index) {
-		// ǿtrue
+		// 非空则是true
 		return pos[index] != -1;
 	}
 	
 	/**
-	 * жָλõԪǷFalse
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是False
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isFalse(int index) {
-		// false
+		// 空则是false
 		return pos[index] == -1;
 	}
 
 	/**
-	 * ǷǼʱ飬ʱĿԱ޸ģ f1+f2+f3ֻһŽ
-	 * @return trueʱ飬falseʱ
+	 * 是否是计算过程中临时产生的数组，临时产生的可以被修改，比如 f1+f2+f3，只需产生一个数组存放结果
+	 * @return true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public boolean isTemporary() {
 		return false;
 	}
 
 	/**
-	 * ǷǼʱ
-	 * @param ifTemporary trueʱ飬falseʱ
+	 * 设置是否是计算过程中临时产生的数组
+	 * @param ifTemporary true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public void setTemporary(boolean ifTemporary) {
 	}
 	
 	/**
-	 * ɾһԪ
+	 * 删除最后一个元素
 	 */
 	public void removeLast() {
 		throw new RuntimeException();
 	}
 
 	/**
-	 * ɾָλõԪ
-	 * @param index 1ʼ
+	 * 删除指定位置的元素
+	 * @param index 索引，从1开始计数
 	 */
 	public void remove(int index) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ɾָڵԪ
-	 * @param from ʼλã
-	 * @param to λã
+	 * 删除指定区间内的元素
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 */
 	public void removeRange(int fromIndex, int toIndex) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ɾָλõԪأŴС
-	 * @param seqs 
+	 * 删除指定位置的元素，序号从小到大排序
+	 * @param seqs 索引数组
 	 */
 	public void remove(int []seqs) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ָڵ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 保留指定区间内的数据
+	 * @param start 起始位置（包含）
+	 * @param end 结束位置（包含）
 	 */
 	public void reserve(int start, int end) {
 		throw new RuntimeException();
@@ -478,8 +478,8 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ķǿԪĿ
-	 * @return ǿԪĿ
+	 * 返回数组的非空元素数目
+	 * @return 非空元素数目
 	 */
 	public int count() {
 		int[] pos = this.pos;
@@ -496,8 +496,8 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * жǷȡֵΪtrueԪ
-	 * @return trueУfalseû
+	 * 判断数组是否有取值为true的元素
+	 * @return true：有，false：没有
 	 */
 	public boolean containTrue() {
 		int size = this.size;
@@ -516,7 +516,7 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * صһΪյԪ
+	 * 返回第一个不为空的元素
 	 * @return Object
 	 */
 	public Object ifn() {
@@ -524,25 +524,25 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ޸ָԪصֵͲ׳쳣
-	 * @param index 1ʼ
-	 * @param obj ֵ
+	 * 修改数组指定元素的值，如果类型不兼容则抛出异常
+	 * @param index 索引，从1开始计数
+	 * @param obj 值
 	 */
 	public void set(int index, Object obj) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ɾеԪ
+	 * 删除所有的元素
 	 */
 	public void clear() {
 		throw new RuntimeException();
 	}
 
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @return int Ԫص,ڷظĲλ.
+	 * @return int 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem) {
 		if (elem instanceof String) {
@@ -579,11 +579,11 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @param start ʼλã
-	 * @param end λã
-	 * @return Ԫص,ڷظĲλ.
+	 * @param start 起始查找位置（包含）
+	 * @param end 结束查找位置（包含）
+	 * @return 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem, int start, int end) {
 		
@@ -620,9 +620,9 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * бǷָԪ
-	 * @param elem Object ҵԪ
-	 * @return boolean truefalse
+	 * 返回列表中是否包含指定元素
+	 * @param elem Object 待查找的元素
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object elem) {
 		if (elem instanceof String) {
@@ -655,10 +655,10 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷڵǰ
-	 * @param isSorted ǰǷ
-	 * @param array 
-	 * @param result ڴŽֻȡֵΪtrue
+	 * 判断数组的元素是否在当前数组中
+	 * @param isSorted 当前数组是否有序
+	 * @param array 数组
+	 * @param result 用于存放结果，只找取值为true的
 	 */
 	public void contains(boolean isSorted, IArray array, BoolArray result) {
 		int resultSize = result.size();
@@ -678,40 +678,40 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * бǷָԪأʹõȺűȽ
+	 * 返回列表中是否包含指定元素，使用等号比较
 	 * @param elem
-	 * @return boolean truefalse
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean objectContains(Object elem) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * Ԫ״γֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中首次出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int firstIndexOf(Object elem, int start) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * Ԫֵλ
-	 * @param elem ҵԪ
-	 * @param start Ӻ濪ʼҵλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中最后出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 从后面开始查找的位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int lastIndexOf(Object elem, int start) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * Ԫгֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @param isSorted ǰǷ
-	 * @param isFromHead trueͷʼfalseβǰʼ
+	 * 返回元素在数组中所有出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @param isSorted 当前数组是否有序
+	 * @param isFromHead true：从头开始遍历，false：从尾向前开始遍历
 	 * @return IntArray
 	 */
 	public IntArray indexOfAll(Object elem, int start, boolean isSorted, boolean isFromHead) {
@@ -719,8 +719,8 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * Աֵ
-	 * @return IArray ֵ
+	 * 对数组成员求绝对值
+	 * @return IArray 绝对值数组
 	 */
 	public IArray abs() {
 		MessageManager mm = EngineMessage.get();
@@ -728,16 +728,16 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求负
+	 * @return IArray 负值数组
 	 */
 	public IArray negate() {
 		throw new RuntimeException();
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求非
+	 * @return IArray 非值数组
 	 */
 	public IArray not() {
 		int[] pos = this.pos;
@@ -754,35 +754,35 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * жĳԱǷ԰null
-	 * @return truefalseзֵ
+	 * 判断数组的成员是否都是数（可以包含null）
+	 * @return true：都是数，false：含有非数的值
 	 */
 	public boolean isNumberArray() {
 		return false;
 	}
 
 	/**
-	 * ӦĳԱĺ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的和
+	 * @param array 右侧数组
+	 * @return 和数组
 	 */
 	public IArray memberAdd(IArray array) {
 		throw new RuntimeException();
 	}
 
 	/**
-	 * ĳԱָĺ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的和
+	 * @param value 常数
+	 * @return 和数组
 	 */
 	public IArray memberAdd(Object value) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ӦĳԱĲ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的差
+	 * @param array 右侧数组
+	 * @return 差数组
 	 */
 	public IArray memberSubtract(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -791,9 +791,9 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĻ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的积
+	 * @param array 右侧数组
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -802,9 +802,9 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ĳԱָĻ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的积
+	 * @param value 常数
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(Object value) {
 		MessageManager mm = EngineMessage.get();
@@ -813,18 +813,18 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ҲĳԱStringƴӵĳԱ
-	 * @param array Ҳ
-	 * @return 
+	 * 把右侧数组的成员变成String拼接到左侧数组的成员上
+	 * @param array 右侧数组
+	 * @return 商数组
 	 */
 	public IArray memberDivide(IArray array) {
 		throw new RuntimeException();
 	}
 
 	/**
-	 * ӦԱȡгԱ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的数成员取余或序列成员异或列
+	 * @param array 右侧数组
+	 * @return 余数数组或序列异或列数组
 	 */
 	public IArray memberMod(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -833,9 +833,9 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ԱгԱ
-	 * @param array Ҳ
-	 * @return ֵв
+	 * 计算两个数组的数成员整除或序列成员差集
+	 * @param array 右侧数组
+	 * @return 整除值数组或序列差集数组
 	 */
 	public IArray memberIntDivide(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -844,10 +844,10 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(IArray array, int relation) {
 		if (array instanceof ConstArray) {
@@ -858,10 +858,10 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(Object value, int relation) {
 		if (value instanceof String) {
@@ -912,11 +912,11 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ĳԱnullĹϵ
-	 * @param signs ԱǷΪձ־trueΪ
-	 * @param size Ա
-	 * @param relation ȽϹϵ
-	 * @return BoolArray Ƚֵ
+	 * 计算数组的成员和null的关系
+	 * @param signs 数组成员是否为空标志，true为空
+	 * @param size 数组成员数
+	 * @param relation 比较关系
+	 * @return BoolArray 比较值数组
 	 */
 	private static BoolArray calcRelationNull(int []pos, int size, int relation) {
 		boolean[] signs = null;
@@ -929,12 +929,12 @@ public class ByteBufferArray implements IArray {
 		
 		boolean []resultDatas = new boolean[size + 1];		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (signs != null) {
 				System.arraycopy(signs, 1, resultDatas, 1, size);
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (signs == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = true;
@@ -947,19 +947,19 @@ public class ByteBufferArray implements IArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = true;
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (signs != null) {
 				System.arraycopy(signs, 1, resultDatas, 1, size);
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (signs == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = true;
@@ -996,32 +996,32 @@ public class ByteBufferArray implements IArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compare(d1, pos[i], len[i], value) == 0;
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compare(d1, pos[i], len[i], value) > 0;
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compare(d1, pos[i], len[i], value) >= 0;
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compare(d1, pos[i], len[i], value) < 0;
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compare(d1, pos[i], len[i], value) <= 0;
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compare(d1, pos[i], len[i], value) != 0;
 			}
@@ -1041,17 +1041,17 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ȽĴС
-	 * @param array Ҳ
-	 * @return 1ǰ0ȣ-1ǰС
+	 * 比较两个数组的大小
+	 * @param array 右侧数组
+	 * @return 1：当前数组大，0：两个数组相等，-1：当前数组小
 	 */
 	public int compareTo(IArray array) {
 		throw new RuntimeException();
 	}
 	/**
-	 * 2ԱıȽֵ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 计算数组的2个成员的比较值
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public int memberCompare(int index1, int index2) {
@@ -1059,9 +1059,9 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * жԱǷ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 判断数组的两个成员是否相等
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public boolean isMemberEquals(int index1, int index2) {
@@ -1069,21 +1069,21 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * жָԪǷͬ
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return trueͬfalseͬ
+	 * 判断两个数组的指定元素是否相同
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return true：相同，false：不相同
 	 */
 	public boolean isEquals(int curIndex, IArray array, int index) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * жָԪǷֵ
-	 * @param curIndex Ԫ1ʼ
-	 * @param value ֵ
-	 * @return trueȣfalse
+	 * 判断数组的指定元素是否与给定值相等
+	 * @param curIndex 数组元素索引，从1开始计数
+	 * @param value 值
+	 * @return true：相等，false：不相等
 	 */
 	public boolean isEquals(int curIndex, Object value) {
 		if (value instanceof String) {
@@ -1096,20 +1096,20 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * жָԪصĴС
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return СڣС0ڣ0ڣ0
+	 * 判断两个数组的指定元素的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return 小于：小于0，等于：0，大于：大于0
 	 */
 	public int compareTo(int curIndex, IArray array, int index) {
 		return compare(buffer, pos[curIndex], len[curIndex], array.get(index));
 	}
 	
 	/**
-	 * ȽָԪֵĴС
-	 * @param curIndex ǰԪص
-	 * @param value ҪȽϵֵ
+	 * 比较数组的指定元素与给定值的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param value 要比较的值
 	 * @return
 	 */
 	public int compareTo(int curIndex, Object value) {
@@ -1117,9 +1117,9 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ȡָԱĹϣֵ
-	 * @param index Ա1ʼ
-	 * @return ָԱĹϣֵ
+	 * 取指定成员的哈希值
+	 * @param index 成员索引，从1开始计数
+	 * @return 指定成员的哈希值
 	 */
 	public int hashCode(int index) {
 		if (pos[index] != -1) {
@@ -1130,7 +1130,7 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * Ա
+	 * 求成员和
 	 * @return
 	 */
 	public Object sum() {
@@ -1138,7 +1138,7 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ƽֵ
+	 * 求平均值
 	 * @return
 	 */
 	public Object average() {
@@ -1146,7 +1146,7 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * õĳԱ
+	 * 得到最大的成员
 	 * @return
 	 */
 	public Object max() {
@@ -1154,7 +1154,7 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * õСĳԱ
+	 * 得到最小的成员
 	 * @return
 	 */
 	public Object min() {
@@ -1162,11 +1162,11 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(IArray array, int relation, BoolArray result, boolean isAnd) {
 		if (array instanceof ConstArray) {
@@ -1179,11 +1179,11 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(Object value, int relation, BoolArray result, boolean isAnd) {
 		if (value instanceof String) {
@@ -1198,12 +1198,12 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ĳԱnullĹϵ
-	 * @param signs ԱǷΪձ־trueΪ
-	 * @param size Ա
-	 * @param relation ȽϹϵ
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算数组的成员和null的关系
+	 * @param signs 数组成员是否为空标志，true为空
+	 * @param size 数组成员数
+	 * @param relation 比较关系
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	private static void calcRelationsNull(int []pos, int size, int relation, BoolArray result, boolean isAnd) {
 		boolean[] signs = null;
@@ -1216,9 +1216,9 @@ public class ByteBufferArray implements IArray {
 		
 		boolean []resultDatas = result.getDatas();
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (signs == null) {
 					for (int i = 1; i <= size; ++i) {
 						resultDatas[i] = false;
@@ -1231,7 +1231,7 @@ public class ByteBufferArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (signs != null) {
 					for (int i = 1; i <= size; ++i) {
 						if (signs[i]) {
@@ -1240,14 +1240,14 @@ public class ByteBufferArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = false;
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (signs != null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!signs[i]) {
@@ -1256,7 +1256,7 @@ public class ByteBufferArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (signs != null) {
 					for (int i = 1; i <= size; ++i) {
 						if (signs[i]) {
@@ -1268,9 +1268,9 @@ public class ByteBufferArray implements IArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (signs != null) {
 					for (int i = 1; i <= size; ++i) {
 						if (signs[i]) {
@@ -1279,7 +1279,7 @@ public class ByteBufferArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (signs == null) {
 					for (int i = 1; i <= size; ++i) {
 						resultDatas[i] = true;
@@ -1292,14 +1292,14 @@ public class ByteBufferArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = true;
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (signs != null) {
 					for (int i = 1; i <= size; ++i) {
 						if (signs[i]) {
@@ -1308,7 +1308,7 @@ public class ByteBufferArray implements IArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (signs == null) {
 					for (int i = 1; i <= size; ++i) {
 						resultDatas[i] = true;
@@ -1334,44 +1334,44 @@ public class ByteBufferArray implements IArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compare(d1, pos[i], len[i], value) != 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compare(d1, pos[i], len[i], value) <= 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compare(d1, pos[i], len[i], value) < 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compare(d1, pos[i], len[i], value) >= 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compare(d1, pos[i], len[i], value) > 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compare(d1, pos[i], len[i], value) == 0) {
 						resultDatas[i] = false;
@@ -1381,44 +1381,44 @@ public class ByteBufferArray implements IArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compare(d1, pos[i], len[i], value) == 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compare(d1, pos[i], len[i], value) > 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compare(d1, pos[i], len[i], value) >= 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compare(d1, pos[i], len[i], value) < 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compare(d1, pos[i], len[i], value) <= 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compare(d1, pos[i], len[i], value) != 0) {
 						resultDatas[i] = true;
@@ -1431,9 +1431,9 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱİλ
-	 * @param array Ҳ
-	 * @return λ
+	 * 计算两个数组的相对应的成员的按位与
+	 * @param array 右侧数组
+	 * @return 按位与结果数组
 	 */
 	public IArray bitwiseAnd(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1441,8 +1441,8 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ȡʶȡֵΪжӦݣ
-	 * @param signArray ʶ
+	 * 取出标识数组取值为真的行对应的数据，组成新数组
+	 * @param signArray 标识数组
 	 * @return IArray
 	 */
 	public IArray select(IArray signArray) {
@@ -1450,10 +1450,10 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * arrayָԪؼӵǰָԪ
-	 * @param curIndex ǰԪص
-	 * @param array Ҫӵ
-	 * @param index ҪӵԪص
+	 * 把array的指定元素加到当前数组的指定元素上
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要相加的数组
+	 * @param index 要相加的数组的元素的索引
 	 * @return IArray
 	 */
 	public IArray memberAdd(int curIndex, IArray array, int index) {
@@ -1463,34 +1463,34 @@ public class ByteBufferArray implements IArray {
 	}	
 
 	/**
-	 * ѳԱתɶ鷵
-	 * @return 
+	 * 把成员转成对象数组返回
+	 * @return 对象数组
 	 */
 	public Object[] toArray() {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ѳԱָ
-	 * @param result ڴųԱ
+	 * 把成员填到指定的数组
+	 * @param result 用于存放成员的数组
 	 */
 	public void toArray(Object []result) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ָλò
-	 * @param pos λã
-	 * @return غ벿Ԫعɵ
+	 * 把数组从指定位置拆成两个数组
+	 * @param pos 位置，包含
+	 * @return 返回后半部分元素构成的数组
 	 */
 	public IArray split(int pos) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ָԪط
-	 * @param from ʼλã
-	 * @param to λã
+	 * 把指定区间元素分离出来组成新数组
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 * @return
 	 */
 	public IArray split(int from, int to) {
@@ -1498,22 +1498,22 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * Ԫؽ
+	 * 对数组的元素进行排序
 	 */
 	public void sort() {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * Ԫؽ
-	 * @param comparator Ƚ
+	 * 对数组的元素进行排序
+	 * @param comparator 比较器
 	 */
 	public void sort(Comparator<Object> comparator) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * Ƿм¼
+	 * 返回数组中是否含有记录
 	 * @return boolean
 	 */
 	public boolean hasRecord() {
@@ -1521,16 +1521,16 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * Ƿǣ
-	 * @param isPure trueǷǴ
-	 * @return boolean trueǣfalse
+	 * 返回是否是（纯）排列
+	 * @param isPure true：检查是否是纯排列
+	 * @return boolean true：是，false：不是
 	 */
 	public boolean isPmt(boolean isPure) {
 		return false;
 	}
 	
 	/**
-	 * ķת
+	 * 返回数组的反转数组
 	 * @return IArray
 	 */
 	public IArray rvs() {
@@ -1538,10 +1538,10 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ԪشСȡǰcountλ
-	 * @param count countС0ȡ|count|λ
-	 * @param isAll countΪ1ʱisAllȡֵΪtrueȡһԪصλãֻȡһ
-	 * @param isLast ǷӺʼ
+	 * 对数组元素从小到大做排名，取前count名的位置
+	 * @param count 如果count小于0则取后|count|名的位置
+	 * @param isAll count为正负1时，如果isAll取值为true则取所有排名第一的元素的位置，否则只取一个
+	 * @param isLast 是否从后开始找
 	 * @param ignoreNull
 	 * @return IntArray
 	 */
@@ -1554,7 +1554,7 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ѵǰתɶ飬ǰǶ򷵻鱾
+	 * 把当前数组转成对象数组，如果当前数组是对象数组则返回数组本身
 	 * @return ObjectArray
 	 */
 	public ObjectArray toObjectArray() {
@@ -1562,7 +1562,7 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * Ѷתɴ飬ת׳쳣
+	 * 把对象数组转成纯类型数组，不能转则抛出异常
 	 * @return IArray
 	 */
 	public IArray toPureArray() {
@@ -1570,8 +1570,8 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * л
-	 * @param refOrigin ԴУ
+	 * 保留数组数据用于生成序列或序表
+	 * @param refOrigin 引用源列，不复制数据
 	 * @return
 	 */
 	public IArray reserve(boolean refOrigin) {
@@ -1586,9 +1586,9 @@ public class ByteBufferArray implements IArray {
 	}
 	
 	/**
-	 * ѡԱ飬ӵǰѡ־Ϊtrueģotherѡ־Ϊfalse
-	 * @param signArray ־
-	 * @param other һ
+	 * 根据条件从两个数组选出成员组成新数组，从当前数组选出标志为true的，从other数组选出标志为false的
+	 * @param signArray 标志数组
+	 * @param other 另一个数组
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, IArray other) {
@@ -1596,9 +1596,9 @@ public class ByteBufferArray implements IArray {
 	}
 
 	/**
-	 * ӵǰѡ־Ϊtrueģ־Ϊfalseóvalue
-	 * @param signArray ־
-	 * @param other ֵ
+	 * 根据条件从当前数组选出标志为true的，标志为false的置成value
+	 * @param signArray 标志数组
+	 * @param other 值
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, Object value) {
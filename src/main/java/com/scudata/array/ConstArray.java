@@ -21,7 +21,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * 
+ * 常量数组
  * @author LW
  *
  */
@@ -31,7 +31,7 @@ public class ConstArray implements IArray {
 	private Object data;
 	private int size;
 
-	// л
+	// 仅用于序列化
 	public ConstArray() {
 	}
 	
@@ -41,8 +41,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ȡʹڴϢʾ
-	 * @return ʹ
+	 * 取数组的类型串，用于错误信息提示
+	 * @return 类型串
 	 */
 	public String getDataType() {
 		return Variant.getDataType(data);
@@ -57,8 +57,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ׷ԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素，如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void add(Object o) {
 		if (Variant.isEquals(data, o)) {
@@ -71,8 +71,8 @@ public class ConstArray implements IArray {
 	
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(IArray array) {
 		if (array.size() == 0) {
@@ -88,9 +88,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
-	 * @param count Ԫظ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
+	 * @param count 元素个数
 	 */
 	public void addAll(IArray array, int count) {
 		if (count == 0) {
@@ -106,8 +106,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(Object []array) {
 		MessageManager mm = EngineMessage.get();
@@ -115,9 +115,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ԪأͲ׳쳣
-	 * @param index λã1ʼ
-	 * @param o Ԫֵ
+	 * 插入元素，如果类型不兼容则抛出异常
+	 * @param index 插入位置，从1开始计数
+	 * @param o 元素值
 	 */
 	public void insert(int index, Object o) {
 		if (Variant.isEquals(data, o)) {
@@ -129,9 +129,9 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -139,9 +139,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, Object []array) {
 		MessageManager mm = EngineMessage.get();
@@ -149,8 +149,8 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ׷ԪأΪ㹻ռԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素），如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void push(Object o) {
 		MessageManager mm = EngineMessage.get();
@@ -158,7 +158,7 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ׷һճԱΪ㹻ռԪأ
+	 * 追加一个空成员（不检查容量，认为有足够空间存放元素）
 	 */
 	public void pushNull() {
 		MessageManager mm = EngineMessage.get();
@@ -166,9 +166,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void push(IArray array, int index) {
 		MessageManager mm = EngineMessage.get();
@@ -176,9 +176,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void add(IArray array, int index) {
 		if (Variant.isEquals(data, array.get(index))) {
@@ -190,10 +190,10 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪǰָԪأͲ׳쳣
-	 * @param curIndex ǰԪ1ʼ
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素设给到当前数组的指定元素，如果类型不兼容则抛出异常
+	 * @param curIndex 当前数组的元素索引，从1开始计数
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void set(int curIndex, IArray array, int index) {
 		MessageManager mm = EngineMessage.get();
@@ -201,8 +201,8 @@ public class ConstArray implements IArray {
 	}	
 	
 	/**
-	 * ȡָλԪ
-	 * @param index 1ʼ
+	 * 取指定位置元素
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public Object get(int index) {
@@ -210,26 +210,26 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ȡָλԪصֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的整数值
+	 * @param index 索引，从1开始计数
+	 * @return 整数值
 	 */
 	public int getInt(int index) {
 		return ((Number)data).intValue();
 	}
 	
 	/**
-	 * ȡָλԪصĳֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的长整数值
+	 * @param index 索引，从1开始计数
+	 * @return 长整数值
 	 */
 	public long getLong(int index) {
 		return ((Number)data).longValue();
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray) {
@@ -237,11 +237,11 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
-	 * @param start ʼλã
-	 * @param end λã
-	 * @param doCheck trueλÿܰ00λnull䣬false0
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，包含
+	 * @param doCheck true：位置可能包含0，0的位置用null填充，false：不会包含0
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray, int start, int end, boolean doCheck) {
@@ -264,8 +264,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param NumberArray λ
+	 * 取指定位置元素组成新数组
+	 * @param NumberArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(NumberArray indexArray) {
@@ -273,9 +273,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ȡĳһ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 取某一区段组成新数组
+	 * @param start 起始位置（包括）
+	 * @param end 结束位置（不包括）
 	 * @return IArray
 	 */
 	public IArray get(int start, int end) {
@@ -283,21 +283,21 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ʹбСminCapacity
-	 * @param minCapacity С
+	 * 使列表的容量不小于minCapacity
+	 * @param minCapacity 最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 	}
 	
 	/**
-	 * ʹԪ
+	 * 调整容量，使其与元素数相等
 	 */
 	public void trimToSize() {
 	}
 	
 	/**
-	 * жָλõԪǷǿ
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是空
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isNull(int index) {
@@ -305,7 +305,7 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷTrue
+	 * 判断元素是否是True
 	 * @return BoolArray
 	 */
 	public BoolArray isTrue() {
@@ -323,7 +323,7 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷǼ
+	 * 判断元素是否是假
 	 * @return BoolArray
 	 */
 	public BoolArray isFalse() {
@@ -341,8 +341,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * жָλõԪǷTrue
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是True
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isTrue(int index) {
@@ -350,8 +350,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * жָλõԪǷFalse
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是False
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isFalse(int index) {
@@ -359,56 +359,56 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ǷǼʱ飬ʱĿԱ޸ģ f1+f2+f3ֻһŽ
-	 * @return trueʱ飬falseʱ
+	 * 是否是计算过程中临时产生的数组，临时产生的可以被修改，比如 f1+f2+f3，只需产生一个数组存放结果
+	 * @return true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public boolean isTemporary() {
 		return false;
 	}
 
 	/**
-	 * ǷǼʱ
-	 * @param ifTemporary trueʱ飬falseʱ
+	 * 设置是否是计算过程中临时产生的数组
+	 * @param ifTemporary true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public void setTemporary(boolean ifTemporary) {
 	}
 	
 	/**
-	 * ɾһԪ
+	 * 删除最后一个元素
 	 */
 	public void removeLast() {
 		size--;
 	}
 	
 	/**
-	 * ɾָλõԪ
-	 * @param index 1ʼ
+	 * 删除指定位置的元素
+	 * @param index 索引，从1开始计数
 	 */
 	public void remove(int index) {
 		size--;
 	}
 	
 	/**
-	 * ɾָڵԪ
-	 * @param from ʼλã
-	 * @param to λã
+	 * 删除指定区间内的元素
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 */
 	public void removeRange(int fromIndex, int toIndex) {
 		size -= (toIndex - fromIndex + 1);
 	}
 	
 	/**
-	 * ɾָλõԪأŴС
-	 * @param seqs 
+	 * 删除指定位置的元素，序号从小到大排序
+	 * @param seqs 索引数组
 	 */
 	public void remove(int []seqs) {
 		size -= seqs.length;
 	}
 	
 	/**
-	 * ָڵ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 保留指定区间内的数据
+	 * @param start 起始位置（包含）
+	 * @param end 结束位置（包含）
 	 */
 	public void reserve(int start, int end) {
 		size = end - start + 1;
@@ -419,23 +419,23 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ķǿԪĿ
-	 * @return ǿԪĿ
+	 * 返回数组的非空元素数目
+	 * @return 非空元素数目
 	 */
 	public int count() {
 		return data != null ? size : 0;
 	}
 	
 	/**
-	 * жǷȡֵΪtrueԪ
-	 * @return trueУfalseû
+	 * 判断数组是否有取值为true的元素
+	 * @return true：有，false：没有
 	 */
 	public boolean containTrue() {
 		return Variant.isTrue(data);
 	}
 	
 	/**
-	 * صһΪյԪ
+	 * 返回第一个不为空的元素
 	 * @return Object
 	 */
 	public Object ifn() {
@@ -443,9 +443,9 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ޸ָԪصֵͲ׳쳣
-	 * @param index 1ʼ
-	 * @param obj ֵ
+	 * 修改数组指定元素的值，如果类型不兼容则抛出异常
+	 * @param index 索引，从1开始计数
+	 * @param obj 值
 	 */
 	public void set(int index, Object obj) {
 		MessageManager mm = EngineMessage.get();
@@ -453,7 +453,7 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ɾеԪ
+	 * 删除所有的元素
 	 */
 	public void clear() {
 		data = null;
@@ -461,9 +461,9 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @return int Ԫص,ڷظĲλ.
+	 * @return int 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem) {
 		if (size == 0) {
@@ -480,11 +480,11 @@ public class ConstArray implements IArray {
 		}
 	}
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @param start ʼλã
-	 * @param end λã
-	 * @return Ԫص,ڷظĲλ.
+	 * @param start 起始查找位置（包含）
+	 * @param end 结束查找位置（包含）
+	 * @return 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem, int start, int end) {
 		if (end == 0) {
@@ -502,9 +502,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * бǷָԪ
-	 * @param elem Object ҵԪ
-	 * @return boolean truefalse
+	 * 返回列表中是否包含指定元素
+	 * @param elem Object 待查找的元素
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object elem) {
 		if (size == 0) {
@@ -514,10 +514,10 @@ public class ConstArray implements IArray {
 		return Variant.isEquals(data, elem);
 	}
 	/**
-	 * жԪǷڵǰ
-	 * @param isSorted ǰǷ
-	 * @param array 
-	 * @param result ڴŽֻȡֵΪtrue
+	 * 判断数组的元素是否在当前数组中
+	 * @param isSorted 当前数组是否有序
+	 * @param array 数组
+	 * @param result 用于存放结果，只找取值为true的
 	 */
 	public void contains(boolean isSorted, IArray array, BoolArray result) {
 		int resultSize = result.size();
@@ -536,19 +536,19 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * бǷָԪأʹõȺűȽ
+	 * 返回列表中是否包含指定元素，使用等号比较
 	 * @param elem
-	 * @return boolean truefalse
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean objectContains(Object elem) {
 		return data == elem;
 	}
 	
 	/**
-	 * Ԫ״γֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中首次出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int firstIndexOf(Object elem, int start) {
 		if (size == 0) {
@@ -559,10 +559,10 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * Ԫֵλ
-	 * @param elem ҵԪ
-	 * @param start Ӻ濪ʼҵλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中最后出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 从后面开始查找的位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int lastIndexOf(Object elem, int start) {
 		if (size == 0) {
@@ -573,11 +573,11 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * Ԫгֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @param isSorted ǰǷ
-	 * @param isFromHead trueͷʼfalseβǰʼ
+	 * 返回元素在数组中所有出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @param isSorted 当前数组是否有序
+	 * @param isFromHead true：从头开始遍历，false：从尾向前开始遍历
 	 * @return IntArray
 	 */
 	public IntArray indexOfAll(Object elem, int start, boolean isSorted, boolean isFromHead) {
@@ -606,7 +606,7 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * 
+	 * 复制数组
 	 * @return
 	 */
 	public IArray dup() {
@@ -614,8 +614,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * дݵ
-	 * @param out 
+	 * 写内容到流
+	 * @param out 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -625,8 +625,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ж
-	 * @param in 
+	 * 从流中读内容
+	 * @param in 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -652,7 +652,7 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * һͬ͵
+	 * 返回一个同类型的数组
 	 * @param count
 	 * @return
 	 */
@@ -675,8 +675,8 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * Աֵ
-	 * @return IArray ֵ
+	 * 对数组成员求绝对值
+	 * @return IArray 绝对值数组
 	 */
 	public IArray abs() {
 		if (data == null) {
@@ -687,8 +687,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求负
+	 * @return IArray 负值数组
 	 */
 	public IArray negate() {
 		if (data == null) {
@@ -699,8 +699,8 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求非
+	 * @return IArray 非值数组
 	 */
 	public IArray not() {
 		Boolean b = Boolean.valueOf(Variant.isFalse(data));
@@ -708,26 +708,26 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * жĳԱǷ԰null
-	 * @return truefalseзֵ
+	 * 判断数组的成员是否都是数（可以包含null）
+	 * @return true：都是数，false：含有非数的值
 	 */
 	public boolean isNumberArray() {
 		return data == null || data instanceof Number;
 	}
 
 	/**
-	 * ӦĳԱĺ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的和
+	 * @param array 右侧数组
+	 * @return 和数组
 	 */
 	public IArray memberAdd(IArray array) {
 		return array.memberAdd(data);
 	}
 
 	/**
-	 * ĳԱָĺ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的和
+	 * @param value 常数
+	 * @return 和数组
 	 */
 	public IArray memberAdd(Object value) {
 		value = Variant.add(data, value);
@@ -735,9 +735,9 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĲ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的差
+	 * @param array 右侧数组
+	 * @return 差数组
 	 */
 	public IArray memberSubtract(IArray array) {
 		if (array instanceof IntArray) {
@@ -1181,18 +1181,18 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĻ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的积
+	 * @param array 右侧数组
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(IArray array) {
 		return array.memberMultiply(data);
 	}
 
 	/**
-	 * ĳԱָĻ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的积
+	 * @param value 常数
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(Object value) {
 		value = Variant.multiply(data, value);
@@ -1200,9 +1200,9 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĳ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的除
+	 * @param array 右侧数组
+	 * @return 商数组
 	 */
 	public IArray memberDivide(IArray array) {
 		if (array instanceof IntArray) {
@@ -1507,9 +1507,9 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ӦԱȡгԱ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的数成员取余或序列成员异或列
+	 * @param array 右侧数组
+	 * @return 余数数组或序列异或列数组
 	 */
 	public IArray memberMod(IArray array) {
 		if (array instanceof IntArray) {
@@ -1914,9 +1914,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ԱгԱ
-	 * @param array Ҳ
-	 * @return ֵв
+	 * 计算两个数组的数成员整除或序列成员差集
+	 * @param array 右侧数组
+	 * @return 整除值数组或序列差集数组
 	 */
 	public IArray memberIntDivide(IArray array) {
 		if (array instanceof IntArray) {
@@ -2274,40 +2274,40 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(IArray array, int relation) {
 		return array.calcRelation(data, Relation.getInverseRelation(relation));
 	}
 	
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(Object value, int relation) {
 		boolean result;
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			result = Variant.compare(data, value, true) == 0;
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			result = Variant.compare(data, value, true) > 0;
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			result = Variant.compare(data, value, true) >= 0;
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			result = Variant.compare(data, value, true) < 0;
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			result = Variant.compare(data, value, true) <= 0;
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			result = Variant.compare(data, value, true) != 0;
 		} else if (relation == Relation.AND) {
 			result = Variant.isTrue(data) && Variant.isTrue(value);
@@ -2319,9 +2319,9 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ȽĴС
-	 * @param array Ҳ
-	 * @return 1ǰ0ȣ-1ǰС
+	 * 比较两个数组的大小
+	 * @param array 右侧数组
+	 * @return 1：当前数组大，0：两个数组相等，-1：当前数组小
 	 */
 	public int compareTo(IArray array) {
 		if (array instanceof ConstArray) {
@@ -2341,9 +2341,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * 2ԱıȽֵ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 计算数组的2个成员的比较值
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public int memberCompare(int index1, int index2) {
@@ -2351,9 +2351,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * жԱǷ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 判断数组的两个成员是否相等
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public boolean isMemberEquals(int index1, int index2) {
@@ -2361,41 +2361,41 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * жָԪǷͬ
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return trueͬfalseͬ
+	 * 判断两个数组的指定元素是否相同
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return true：相同，false：不相同
 	 */
 	public boolean isEquals(int curIndex, IArray array, int index) {
 		return Variant.isEquals(data, array.get(index));
 	}
 	
 	/**
-	 * жָԪǷֵ
-	 * @param curIndex Ԫ1ʼ
-	 * @param value ֵ
-	 * @return trueȣfalse
+	 * 判断数组的指定元素是否与给定值相等
+	 * @param curIndex 数组元素索引，从1开始计数
+	 * @param value 值
+	 * @return true：相等，false：不相等
 	 */
 	public boolean isEquals(int curIndex, Object value) {
 		return Variant.isEquals(data, value);
 	}
 	
 	/**
-	 * жָԪصĴС
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return СڣС0ڣ0ڣ0
+	 * 判断两个数组的指定元素的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return 小于：小于0，等于：0，大于：大于0
 	 */
 	public int compareTo(int curIndex, IArray array, int index) {
 		return Variant.compare(data, array.get(index), true);
 	}
 	
 	/**
-	 * ȽָԪֵĴС
-	 * @param curIndex ǰԪص
-	 * @param value ҪȽϵֵ
+	 * 比较数组的指定元素与给定值的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param value 要比较的值
 	 * @return
 	 */
 	public int compareTo(int curIndex, Object value) {
@@ -2403,9 +2403,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ȡָԱĹϣֵ
-	 * @param index Ա1ʼ
-	 * @return ָԱĹϣֵ
+	 * 取指定成员的哈希值
+	 * @param index 成员索引，从1开始计数
+	 * @return 指定成员的哈希值
 	 */
 	public int hashCode(int index) {
 		if (data != null) {
@@ -2416,7 +2416,7 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * Ա
+	 * 求成员和
 	 * @return
 	 */
 	public Object sum() {
@@ -2428,7 +2428,7 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ƽֵ
+	 * 求平均值
 	 * @return
 	 */
 	public Object average() {
@@ -2446,7 +2446,7 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * õĳԱ
+	 * 得到最大的成员
 	 * @return
 	 */
 	public Object max() {
@@ -2454,7 +2454,7 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * õСĳԱ
+	 * 得到最小的成员
 	 * @return
 	 */
 	public Object min() {
@@ -2462,44 +2462,44 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(IArray array, int relation, BoolArray result, boolean isAnd) {
 		array.calcRelations(data, Relation.getInverseRelation(relation), result, isAnd);
 	}
 	
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(Object value, int relation, BoolArray result, boolean isAnd) {
 		boolean []resultDatas = result.getDatas();
 		boolean b;
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			b = Variant.compare(data, value, true) == 0;
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			b = Variant.compare(data, value, true) > 0;
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			b = Variant.compare(data, value, true) >= 0;
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			b = Variant.compare(data, value, true) < 0;
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			b = Variant.compare(data, value, true) <= 0;
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			b = Variant.compare(data, value, true) != 0;
 		} else {
 			throw new RuntimeException();
@@ -2517,9 +2517,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱİλ
-	 * @param array Ҳ
-	 * @return λ
+	 * 计算两个数组的相对应的成员的按位与
+	 * @param array 右侧数组
+	 * @return 按位与结果数组
 	 */
 	public IArray bitwiseAnd(IArray array) {
 		if (array instanceof ConstArray) {
@@ -2531,8 +2531,8 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ȡʶȡֵΪжӦݣ
-	 * @param signArray ʶ
+	 * 取出标识数组取值为真的行对应的数据，组成新数组
+	 * @param signArray 标识数组
 	 * @return IArray
 	 */
 	public IArray select(IArray signArray) {
@@ -2569,10 +2569,10 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * arrayָԪؼӵǰָԪ
-	 * @param curIndex ǰԪص
-	 * @param array Ҫӵ
-	 * @param index ҪӵԪص
+	 * 把array的指定元素加到当前数组的指定元素上
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要相加的数组
+	 * @param index 要相加的数组的元素的索引
 	 * @return IArray
 	 */
 	public IArray memberAdd(int curIndex, IArray array, int index) {
@@ -2582,8 +2582,8 @@ public class ConstArray implements IArray {
 	}	
 
 	/**
-	 * ѳԱתɶ鷵
-	 * @return 
+	 * 把成员转成对象数组返回
+	 * @return 对象数组
 	 */
 	public Object[] toArray() {
 		int size = this.size;
@@ -2598,8 +2598,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ѳԱָ
-	 * @param result ڴųԱ
+	 * 把成员填到指定的数组
+	 * @param result 用于存放成员的数组
 	 */
 	public void toArray(Object []result) {
 		int size = this.size;
@@ -2611,9 +2611,9 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ָλò
-	 * @param pos λã
-	 * @return غ벿Ԫعɵ
+	 * 把数组从指定位置拆成两个数组
+	 * @param pos 位置，包含
+	 * @return 返回后半部分元素构成的数组
 	 */
 	public IArray split(int pos) {
 		int resultSize = size - pos + 1;
@@ -2622,9 +2622,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ָԪط
-	 * @param from ʼλã
-	 * @param to λã
+	 * 把指定区间元素分离出来组成新数组
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 * @return
 	 */
 	public IArray split(int from, int to) {
@@ -2634,20 +2634,20 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * Ԫؽ
+	 * 对数组的元素进行排序
 	 */
 	public void sort() {
 	}
 	
 	/**
-	 * Ԫؽ
-	 * @param comparator Ƚ
+	 * 对数组的元素进行排序
+	 * @param comparator 比较器
 	 */
 	public void sort(Comparator<Object> comparator) {
 	}
 	
 	/**
-	 * Ƿм¼
+	 * 返回数组中是否含有记录
 	 * @return boolean
 	 */
 	public boolean hasRecord() {
@@ -2655,16 +2655,16 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * Ƿǣ
-	 * @param isPure trueǷǴ
-	 * @return boolean trueǣfalse
+	 * 返回是否是（纯）排列
+	 * @param isPure true：检查是否是纯排列
+	 * @return boolean true：是，false：不是
 	 */
 	public boolean isPmt(boolean isPure) {
 		return data instanceof BaseRecord;
 	}
 	
 	/**
-	 * ķת
+	 * 返回数组的反转数组
 	 * @return IArray
 	 */
 	public IArray rvs() {
@@ -2672,10 +2672,10 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ԪشСȡǰcountλ
-	 * @param count countС0ȡ|count|λ
-	 * @param isAll countΪ1ʱisAllȡֵΪtrueȡһԪصλãֻȡһ
-	 * @param isLast ǷӺʼ
+	 * 对数组元素从小到大做排名，取前count名的位置
+	 * @param count 如果count小于0则取后|count|名的位置
+	 * @param isAll count为正负1时，如果isAll取值为true则取所有排名第一的元素的位置，否则只取一个
+	 * @param isLast 是否从后开始找
 	 * @param ignoreNull
 	 * @return IntArray
 	 */
@@ -2685,7 +2685,7 @@ public class ConstArray implements IArray {
 		}
 		
 		if (count == 1 || count == -1) {
-			// ȡСֵλ
+			// 取最小值的位置
 			if (isAll) {
 				return new IntArray(1, size);
 			} else if (isLast) {
@@ -2698,7 +2698,7 @@ public class ConstArray implements IArray {
 				return result;
 			}
 		} else if (count > 1) {
-			// ȡСcountԪصλ
+			// 取最小的count个元素的位置
 			return new IntArray(1, count);
 		} else if (count < -1) {
 			return new IntArray(1, -count);
@@ -2712,7 +2712,7 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ѵǰתɶ飬ǰǶ򷵻鱾
+	 * 把当前数组转成对象数组，如果当前数组是对象数组则返回数组本身
 	 * @return ObjectArray
 	 */
 	public ObjectArray toObjectArray() {
@@ -2728,7 +2728,7 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * Ѷתɴ飬ת׳쳣
+	 * 把对象数组转成纯类型数组，不能转则抛出异常
 	 * @return IArray
 	 */
 	public IArray toPureArray() {
@@ -2791,8 +2791,8 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * л
-	 * @param refOrigin ԴУ
+	 * 保留数组数据用于生成序列或序表
+	 * @param refOrigin 引用源列，不复制数据
 	 * @return
 	 */
 	public IArray reserve(boolean refOrigin) {
@@ -2800,9 +2800,9 @@ public class ConstArray implements IArray {
 	}
 	
 	/**
-	 * ѡԱ飬ӵǰѡ־Ϊtrueģotherѡ־Ϊfalse
-	 * @param signArray ־
-	 * @param other һ
+	 * 根据条件从两个数组选出成员组成新数组，从当前数组选出标志为true的，从other数组选出标志为false的
+	 * @param signArray 标志数组
+	 * @param other 另一个数组
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, IArray other) {
@@ -2814,9 +2814,9 @@ public class ConstArray implements IArray {
 	}
 
 	/**
-	 * ӵǰѡ־Ϊtrueģ־Ϊfalseóvalue
-	 * @param signArray ־
-	 * @param other ֵ
+	 * 根据条件从当前数组选出标志为true的，标志为false的置成value
+	 * @param signArray 标志数组
+	 * @param other 值
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, Object value) {
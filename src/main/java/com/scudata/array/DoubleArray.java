@@ -19,16 +19,16 @@ import com.scudata.thread.MultithreadUtil;
 import com.scudata.util.Variant;
 
 /**
- * double飬1ʼ
+ * double数组，从1开始计数
  * @author LW
  *
  */
 public class DoubleArray implements NumberArray {
 	private static final long serialVersionUID = 1L;
-	private static final byte NULL_SIGN = 60; // лʱʾsignsǷΪ
+	private static final byte NULL_SIGN = 60; // 用于序列化时表示signs是否为空
 
-	private double []datas; // 0ԪرʾǷʱ
-	private boolean []signs; // ʾӦλõԪǷnullnullԱʱŲ
+	private double []datas; // 第0个元素表示是否是临时数组
+	private boolean []signs; // 表示相应位置的元素是否是null，有null成员时才产生
 	private int size;
 	
 	public DoubleArray() {
@@ -46,10 +46,10 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ȽָָĴСnullС
-	 * @param n1 ֵ
-	 * @param o2 ֵ
-	 * @return 1ֵ0ͬ-1ֵ
+	 * 比较指定数和指定对象的大小，null最小
+	 * @param n1 左值
+	 * @param o2 右值
+	 * @return 1：左值大，0：同样大，-1：右值大
 	 */
 	private static int compare(double n1, Object o2) {
 		if (o2 instanceof BigDecimal) {
@@ -80,8 +80,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡʹڴϢʾ
-	 * @return ʹ
+	 * 取数组的类型串，用于错误信息提示
+	 * @return 类型串
 	 */
 	public String getDataType() {
 		MessageManager mm = EngineMessage.get();
@@ -89,7 +89,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * 
+	 * 复制数组
 	 * @return
 	 */
 	public IArray dup() {
@@ -107,8 +107,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * дݵ
-	 * @param out 
+	 * 写内容到流
+	 * @param out 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -135,8 +135,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ж
-	 * @param in 
+	 * 从流中读内容
+	 * @param in 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -204,7 +204,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * һͬ͵
+	 * 返回一个同类型的数组
 	 * @param count
 	 * @return
 	 */
@@ -213,8 +213,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷ԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素，如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void add(Object o) {
 		if (o instanceof Double) {
@@ -235,8 +235,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(IArray array) {
 		int size2 = array.size();
@@ -288,9 +288,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
-	 * @param count Ԫظ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
+	 * @param count 元素个数
 	 */
 	public void addAll(IArray array, int count) {
 		if (count == 0) {
@@ -341,8 +341,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(Object []array) {
 		for (Object obj : array) {
@@ -372,9 +372,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ԪأͲ׳쳣
-	 * @param index λã1ʼ
-	 * @param o Ԫֵ
+	 * 插入元素，如果类型不兼容则抛出异常
+	 * @param index 插入位置，从1开始计数
+	 * @param o 元素值
 	 */
 	public void insert(int index, Object o) {
 		if (o instanceof Double) {
@@ -409,9 +409,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, IArray array) {
 		if (array instanceof DoubleArray) {
@@ -449,9 +449,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, Object []array) {
 		boolean containNull = false;
@@ -501,8 +501,8 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ׷ԪأΪ㹻ռԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素），如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void push(Object o) {
 		if (o instanceof Double) {
@@ -521,9 +521,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void push(IArray array, int index) {
 		if (array instanceof DoubleArray) {
@@ -542,9 +542,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void add(IArray array, int index) {
 		if (array.isNull(index)) {
@@ -565,10 +565,10 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪǰָԪأͲ׳쳣
-	 * @param curIndex ǰԪ1ʼ
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素设给到当前数组的指定元素，如果类型不兼容则抛出异常
+	 * @param curIndex 当前数组的元素索引，从1开始计数
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void set(int curIndex, IArray array, int index) {
 		if (array.isNull(index)) {
@@ -585,8 +585,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷Ԫ
-	 * @param n ֵ
+	 * 追加元素
+	 * @param n 值
 	 */
 	public void addDouble(double n) {
 		ensureCapacity(size + 1);
@@ -594,7 +594,7 @@ public class DoubleArray implements NumberArray {
 	}
 		
 	/**
-	 * ׷ӿԪ
+	 * 追加空元素
 	 */
 	public void pushNull() {
 		if (signs == null) {
@@ -605,24 +605,24 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷ԪأΪ㹻ռԪأ
-	 * @param n ֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素）
+	 * @param n 值
 	 */
 	public void push(double n) {
 		datas[++size] = n;
 	}
 	
 	/**
-	 * ׷ԪأΪ㹻ռԪأ
-	 * @param n ֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素）
+	 * @param n 值
 	 */
 	public void pushDouble(double n) {
 		datas[++size] = n;
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param index 1ʼ
+	 * 取指定位置元素
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public Object get(int index) {
@@ -634,35 +634,35 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ȡָλԪصֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的整数值
+	 * @param index 索引，从1开始计数
+	 * @return 整数值
 	 */
 	public int getInt(int index) {
 		return (int)datas[index];
 	}
 
 	/**
-	 * ȡָλԪصĳֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的长整数值
+	 * @param index 索引，从1开始计数
+	 * @return 长整数值
 	 */
 	public long getLong(int index) {
 		return (long)datas[index];
 	}
 
 	/**
-	 * ȡָλԪصĸֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的浮点数值
+	 * @param index 索引，从1开始计数
+	 * @return 浮点数值
 	 */
 	public double getDouble(int index) {
 		return datas[index];
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray) {
@@ -689,11 +689,11 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
-	 * @param start ʼλã
-	 * @param end λã
-	 * @param doCheck trueλÿܰ00λnull䣬false0
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，包含
+	 * @param doCheck true：位置可能包含0，0的位置用null填充，false：不会包含0
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray, int start, int end, boolean doCheck) {
@@ -749,8 +749,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param NumberArray λ
+	 * 取指定位置元素组成新数组
+	 * @param NumberArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(NumberArray indexArray) {
@@ -778,9 +778,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡĳһ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 取某一区段组成新数组
+	 * @param start 起始位置（包括）
+	 * @param end 结束位置（不包括）
 	 * @return IArray
 	 */
 	public IArray get(int start, int end) {
@@ -798,8 +798,8 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ʹбСminCapacity
-	 * @param minCapacity С
+	 * 使列表的容量不小于minCapacity
+	 * @param minCapacity 最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 		if (datas.length <= minCapacity) {
@@ -821,7 +821,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ʹԪ
+	 * 调整容量，使其与元素数相等
 	 */
 	public void trimToSize() {
 		int newLen = size + 1;
@@ -839,8 +839,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * жָλõԪǷǿ
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是空
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isNull(int index) {
@@ -848,7 +848,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * жԪǷTrue
+	 * 判断元素是否是True
 	 * @return BoolArray
 	 */
 	public BoolArray isTrue() {
@@ -872,7 +872,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * жԪǷǼ
+	 * 判断元素是否是假
 	 * @return BoolArray
 	 */
 	public BoolArray isFalse() {
@@ -893,43 +893,43 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * жָλõԪǷTrue
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是True
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isTrue(int index) {
-		// ǿtrue
+		// 非空则是true
 		return signs == null || !signs[index];
 	}
 	
 	/**
-	 * жָλõԪǷFalse
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是False
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isFalse(int index) {
-		// false
+		// 空则是false
 		return signs != null && signs[index];
 	}
 
 	/**
-	 * ǷǼʱ飬ʱĿԱ޸ģ f1+f2+f3ֻһŽ
-	 * @return trueʱ飬falseʱ
+	 * 是否是计算过程中临时产生的数组，临时产生的可以被修改，比如 f1+f2+f3，只需产生一个数组存放结果
+	 * @return true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public boolean isTemporary() {
 		return (int)datas[0] == 1;
 	}
 
 	/**
-	 * ǷǼʱ
-	 * @param ifTemporary trueʱ飬falseʱ
+	 * 设置是否是计算过程中临时产生的数组
+	 * @param ifTemporary true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public void setTemporary(boolean ifTemporary) {
 		datas[0] = ifTemporary ? 1 : 0;
 	}
 	
 	/**
-	 * ɾһԪ
+	 * 删除最后一个元素
 	 */
 	public void removeLast() {
 		if (signs != null) {
@@ -940,8 +940,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾָλõԪ
-	 * @param index 1ʼ
+	 * 删除指定位置的元素
+	 * @param index 索引，从1开始计数
 	 */
 	public void remove(int index) {
 		System.arraycopy(datas, index + 1, datas, index, size - index);
@@ -954,9 +954,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾָڵԪ
-	 * @param from ʼλã
-	 * @param to λã
+	 * 删除指定区间内的元素
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 */
 	public void removeRange(int fromIndex, int toIndex) {
 		System.arraycopy(datas, toIndex + 1, datas, fromIndex, size - toIndex);
@@ -971,8 +971,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾָλõԪأŴС
-	 * @param seqs 
+	 * 删除指定位置的元素，序号从小到大排序
+	 * @param seqs 索引数组
 	 */
 	public void remove(int []seqs) {
 		int delCount = 0;
@@ -1010,9 +1010,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ָڵ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 保留指定区间内的数据
+	 * @param start 起始位置（包含）
+	 * @param end 结束位置（包含）
 	 */
 	public void reserve(int start, int end) {
 		int newSize = end - start + 1;
@@ -1032,8 +1032,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ķǿԪĿ
-	 * @return ǿԪĿ
+	 * 返回数组的非空元素数目
+	 * @return 非空元素数目
 	 */
 	public int count() {
 		boolean []signs = this.signs;
@@ -1053,8 +1053,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * жǷȡֵΪtrueԪ
-	 * @return trueУfalseû
+	 * 判断数组是否有取值为true的元素
+	 * @return true：有，false：没有
 	 */
 	public boolean containTrue() {
 		int size = this.size;
@@ -1077,7 +1077,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * صһΪյԪ
+	 * 返回第一个不为空的元素
 	 * @return Object
 	 */
 	public Object ifn() {
@@ -1101,9 +1101,9 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ޸ָԪصֵͲ׳쳣
-	 * @param index 1ʼ
-	 * @param obj ֵ
+	 * 修改数组指定元素的值，如果类型不兼容则抛出异常
+	 * @param index 索引，从1开始计数
+	 * @param obj 值
 	 */
 	public void set(int index, Object obj) {
 		if (obj == null) {
@@ -1125,7 +1125,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾеԪ
+	 * 删除所有的元素
 	 */
 	public void clear() {
 		signs = null;
@@ -1133,9 +1133,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @return int Ԫص,ڷظĲλ.
+	 * @return int 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem) {
 		if (elem instanceof Number) {
@@ -1146,7 +1146,7 @@ public class DoubleArray implements NumberArray {
 			int low = 1, high = size;
 			
 			if (signs != null) {
-				// null
+				// 跳过null
 				while (low <= high) {
 					if (signs[low]) {
 						low++;
@@ -1173,7 +1173,7 @@ public class DoubleArray implements NumberArray {
 					int mid = (low + high) >> 1;
 					if (compare(datas[mid], elem) < 0) {
 						low = mid + 1;
-					} else { // 0ȵ
+					} else { // 大于0，不会有相等的情况
 						high = mid - 1;
 					}
 				}
@@ -1194,11 +1194,11 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @param start ʼλã
-	 * @param end λã
-	 * @return Ԫص,ڷظĲλ.
+	 * @param start 起始查找位置（包含）
+	 * @param end 结束查找位置（包含）
+	 * @return 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem, int start, int end) {
 		if (elem instanceof Number) {
@@ -1209,7 +1209,7 @@ public class DoubleArray implements NumberArray {
 			int low = start, high = end;
 			
 			if (signs != null) {
-				// null
+				// 跳过null
 				while (low <= high) {
 					if (signs[low]) {
 						low++;
@@ -1236,7 +1236,7 @@ public class DoubleArray implements NumberArray {
 					int mid = (low + high) >> 1;
 					if (compare(datas[mid], elem) < 0) {
 						low = mid + 1;
-					} else { // 0ȵ
+					} else { // 大于0，不会有相等的情况
 						high = mid - 1;
 					}
 				}
@@ -1262,7 +1262,7 @@ public class DoubleArray implements NumberArray {
 		int low = 1, high = size;
 		
 		if (signs != null) {
-			// null
+			// 跳过null
 			while (low <= high) {
 				if (signs[low]) {
 					low++;
@@ -1287,7 +1287,7 @@ public class DoubleArray implements NumberArray {
 		return -low; // key not found
 	}
 	
-	// 鰴򣬽нֲ
+	// 数组按降序排序，进行降序二分查找
 	private int descBinarySearch(double elem) {
 		double []datas = this.datas;
 		int low = 1, high = size;
@@ -1308,16 +1308,16 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * бǷָԪ
-	 * @param elem Object ҵԪ
-	 * @return boolean truefalse
+	 * 返回列表中是否包含指定元素
+	 * @param elem Object 待查找的元素
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object elem) {
 		if (elem instanceof Number) {
 			Number number = (Number)elem;
 			double v = number.doubleValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return false;
 			}
@@ -1383,10 +1383,10 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * жԪǷڵǰ
-	 * @param isSorted ǰǷ
-	 * @param array 
-	 * @param result ڴŽֻȡֵΪtrue
+	 * 判断数组的元素是否在当前数组中
+	 * @param isSorted 当前数组是否有序
+	 * @param array 数组
+	 * @param result 用于存放结果，只找取值为true的
 	 */
 	public void contains(boolean isSorted, IArray array, BoolArray result) {
 		int resultSize = result.size();
@@ -1435,26 +1435,26 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * бǷָԪأʹõȺűȽ
+	 * 返回列表中是否包含指定元素，使用等号比较
 	 * @param elem
-	 * @return boolean truefalse
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean objectContains(Object elem) {
 		return false;
 	}
 	
 	/**
-	 * Ԫ״γֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中首次出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int firstIndexOf(Object elem, int start) {
 		if (elem instanceof Number) {
 			Number number = (Number)elem;
 			double v = number.doubleValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return 0;
 			}
@@ -1497,17 +1497,17 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * Ԫֵλ
-	 * @param elem ҵԪ
-	 * @param start Ӻ濪ʼҵλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中最后出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 从后面开始查找的位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int lastIndexOf(Object elem, int start) {
 		if (elem instanceof Number) {
 			Number number = (Number)elem;
 			double v = number.doubleValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return 0;
 			}
@@ -1549,11 +1549,11 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * Ԫгֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @param isSorted ǰǷ
-	 * @param isFromHead trueͷʼfalseβǰʼ
+	 * 返回元素在数组中所有出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @param isSorted 当前数组是否有序
+	 * @param isFromHead true：从头开始遍历，false：从尾向前开始遍历
 	 * @return IntArray
 	 */
 	public IntArray indexOfAll(Object elem, int start, boolean isSorted, boolean isFromHead) {
@@ -1617,13 +1617,13 @@ public class DoubleArray implements NumberArray {
 			double []datas = this.datas;
 			double v = number.doubleValue();
 			
-			// ҵһ
+			// 找到第一个
 			int first = index;
 			while (first > start && (signs == null || !signs[first - 1]) && datas[first - 1] == v) {
 				first--;
 			}
 			
-			// ҵһ
+			// 找到最后一个
 			int last = index;
 			while (last < end && (signs == null || !signs[last + 1]) && datas[last + 1] == v) {
 				last++;
@@ -1645,7 +1645,7 @@ public class DoubleArray implements NumberArray {
 			double []datas = this.datas;
 			double v = number.doubleValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return new IntArray(1);
 			}
@@ -1670,8 +1670,8 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * Աֵ
-	 * @return IArray ֵ
+	 * 对数组成员求绝对值
+	 * @return IArray 绝对值数组
 	 */
 	public IArray abs() {
 		int size = this.size;
@@ -1696,14 +1696,14 @@ public class DoubleArray implements NumberArray {
 		}
 		
 		if (signs == null) {
-			// ûnullԱ
+			// 没有null成员
 			for (int i = 1; i <= size; ++i) {
 				if (datas[i] <= 0.0D) {
 					datas[i] = 0.0D - datas[i];
 				}
 			}
 		} else {
-			// ҪжϳԱǷnull
+			// 需要判断成员是否是null
 			for (int i = 1; i <= size; ++i) {
 				if (!signs[i] && datas[i] <= 0.0D) {
 					datas[i] = 0.0D - datas[i];
@@ -1715,14 +1715,14 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求负
+	 * @return IArray 负值数组
 	 */
 	public IArray negate() {
 		int size = this.size;
 		double []datas = this.datas;
 		
-		// ҪжϳԱǷnull
+		// 不需要判断成员是否是null
 		if (isTemporary()) {
 			for (int i = 1; i <= size; ++i) {
 				datas[i] = -datas[i];
@@ -1748,15 +1748,15 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求非
+	 * @return IArray 非值数组
 	 */
 	public IArray not() {
 		boolean []signs = this.signs;
 		int size = this.size;
 		
 		if (signs == null) {
-			// ûпԪʱȡǶfalse
+			// 没有空元素时取非都是false
 			return new ConstArray(Boolean.FALSE, size);
 		} else {
 			boolean []newDatas = new boolean[size + 1];
@@ -1769,17 +1769,17 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * жĳԱǷ԰null
-	 * @return truefalseзֵ
+	 * 判断数组的成员是否都是数（可以包含null）
+	 * @return true：都是数，false：含有非数的值
 	 */
 	public boolean isNumberArray() {
 		return true;
 	}
 
 	/**
-	 * ӦĳԱĺ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的和
+	 * @param array 右侧数组
+	 * @return 和数组
 	 */
 	public IArray memberAdd(IArray array) {
 		if (array instanceof IntArray) {
@@ -1804,12 +1804,12 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ĳԱָĺ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的和
+	 * @param value 常数
+	 * @return 和数组
 	 */
 	public IArray memberAdd(Object value) {
-		// ַֺ԰Ѵת֣תnull
+		// 数字和字符串相加则尝试把串转成数字，转不成则当null处理
 		if (value instanceof String) {
 			value = Variant.parseNumber((String)value);
 		}
@@ -2101,9 +2101,9 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĲ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的差
+	 * @param array 右侧数组
+	 * @return 差数组
 	 */
 	public IArray memberSubtract(IArray array) {
 		if (array instanceof IntArray) {
@@ -2474,9 +2474,9 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĻ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的积
+	 * @param array 右侧数组
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(IArray array) {
 		if (array instanceof IntArray) {
@@ -2497,9 +2497,9 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ĳԱָĻ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的积
+	 * @param value 常数
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(Object value) {
 		int size = this.size;
@@ -2769,9 +2769,9 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĳ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的除
+	 * @param array 右侧数组
+	 * @return 商数组
 	 */
 	public IArray memberDivide(IArray array) {
 		if (array instanceof IntArray) {
@@ -3145,9 +3145,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ԱгԱ
-	 * @param array Ҳ
-	 * @return ֵв
+	 * 计算两个数组的数成员整除或序列成员差集
+	 * @param array 右侧数组
+	 * @return 整除值数组或序列差集数组
 	 */
 	public IArray memberIntDivide(IArray array) {
 		if (array instanceof IntArray) {
@@ -3243,7 +3243,7 @@ public class DoubleArray implements NumberArray {
 				resultSigns = s2;
 				for (int i = 1; i <= size; ++i) {
 					if (s1[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3442,9 +3442,9 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ӦԱȡгԱ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的数成员取余或序列成员异或列
+	 * @param array 右侧数组
+	 * @return 余数数组或序列异或列数组
 	 */
 	public IArray memberMod(IArray array) {
 		if (array instanceof IntArray) {
@@ -3489,7 +3489,7 @@ public class DoubleArray implements NumberArray {
 				resultSigns = s1;
 				for (int i = 1; i <= size; ++i) {
 					if (s2[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3557,7 +3557,7 @@ public class DoubleArray implements NumberArray {
 				resultSigns = s1;
 				for (int i = 1; i <= size; ++i) {
 					if (s2[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3625,7 +3625,7 @@ public class DoubleArray implements NumberArray {
 				resultSigns = s1;
 				for (int i = 1; i <= size; ++i) {
 					if (s2[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3644,7 +3644,7 @@ public class DoubleArray implements NumberArray {
 				resultSigns = s2;
 				for (int i = 1; i <= size; ++i) {
 					if (s1[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3808,9 +3808,9 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱбȽϣرȽϽ
-	 * @param rightArray Ҳ
-	 * @return IntArray 10ȣ-1Ҳ
+	 * 两个数组的相对应的成员进行比较，返回比较结果数组
+	 * @param rightArray 右侧数组
+	 * @return IntArray 1：左侧大，0：相等，-1：右侧大
 	 */
 	public IntArray memberCompare(NumberArray rightArray) {
 		int size = this.size;
@@ -3880,10 +3880,10 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(IArray array, int relation) {
 		if (array instanceof IntArray) {
@@ -3908,10 +3908,10 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(Object value, int relation) {
 		if (value instanceof BigDecimal) {
@@ -3977,7 +3977,7 @@ public class DoubleArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4012,7 +4012,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4047,7 +4047,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4082,7 +4082,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4117,7 +4117,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4152,7 +4152,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4230,7 +4230,7 @@ public class DoubleArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) == 0;
@@ -4245,7 +4245,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) > 0;
@@ -4260,7 +4260,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) >= 0;
@@ -4275,7 +4275,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) < 0;
@@ -4290,7 +4290,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) <= 0;
@@ -4305,7 +4305,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) != 0;
@@ -4347,7 +4347,7 @@ public class DoubleArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) == 0;
@@ -4362,7 +4362,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) > 0;
@@ -4377,7 +4377,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) >= 0;
@@ -4392,7 +4392,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) < 0;
@@ -4407,7 +4407,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) <= 0;
@@ -4422,7 +4422,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) != 0;
@@ -4547,7 +4547,7 @@ public class DoubleArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) == 0;
@@ -4562,7 +4562,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) > 0;
@@ -4577,7 +4577,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) >= 0;
@@ -4592,7 +4592,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) < 0;
@@ -4607,7 +4607,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) <= 0;
@@ -4622,7 +4622,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) != 0;
@@ -4664,9 +4664,9 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ȽĴС
-	 * @param array Ҳ
-	 * @return 1ǰ0ȣ-1ǰС
+	 * 比较两个数组的大小
+	 * @param array 右侧数组
+	 * @return 1：当前数组大，0：两个数组相等，-1：当前数组小
 	 */
 	public int compareTo(IArray array) {
 		int size1 = this.size;
@@ -4817,9 +4817,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * 2ԱıȽֵ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 计算数组的2个成员的比较值
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public int memberCompare(int index1, int index2) {
@@ -4835,9 +4835,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * жԱǷ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 判断数组的两个成员是否相等
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public boolean isMemberEquals(int index1, int index2) {
@@ -4853,11 +4853,11 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * жָԪǷͬ
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return trueͬfalseͬ
+	 * 判断两个数组的指定元素是否相同
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return true：相同，false：不相同
 	 */
 	public boolean isEquals(int curIndex, IArray array, int index) {
 		if (isNull(curIndex)) {
@@ -4872,10 +4872,10 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * жָԪǷֵ
-	 * @param curIndex Ԫ1ʼ
-	 * @param value ֵ
-	 * @return trueȣfalse
+	 * 判断数组的指定元素是否与给定值相等
+	 * @param curIndex 数组元素索引，从1开始计数
+	 * @param value 值
+	 * @return true：相等，false：不相等
 	 */
 	public boolean isEquals(int curIndex, Object value) {
 		if (signs == null || !signs[curIndex]) {
@@ -4886,11 +4886,11 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * жָԪصĴС
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return СڣС0ڣ0ڣ0
+	 * 判断两个数组的指定元素的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return 小于：小于0，等于：0，大于：大于0
 	 */
 	public int compareTo(int curIndex, IArray array, int index) {
 		if (isNull(curIndex)) {
@@ -4905,9 +4905,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ȽָԪֵĴС
-	 * @param curIndex ǰԪص
-	 * @param value ҪȽϵֵ
+	 * 比较数组的指定元素与给定值的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param value 要比较的值
 	 * @return
 	 */
 	public int compareTo(int curIndex, Object value) {
@@ -4921,10 +4921,10 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * arrayָԪؼӵǰָԪ
-	 * @param curIndex ǰԪص
-	 * @param array Ҫӵ
-	 * @param index ҪӵԪص
+	 * 把array的指定元素加到当前数组的指定元素上
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要相加的数组
+	 * @param index 要相加的数组的元素的索引
 	 * @return IArray
 	 */
 	public IArray memberAdd(int curIndex, IArray array, int index) {
@@ -4967,9 +4967,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡָԱĹϣֵ
-	 * @param index Ա1ʼ
-	 * @return ָԱĹϣֵ
+	 * 取指定成员的哈希值
+	 * @param index 成员索引，从1开始计数
+	 * @return 指定成员的哈希值
 	 */
 	public int hashCode(int index) {
 		if (signs == null || !signs[index]) {
@@ -4980,7 +4980,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * Ա
+	 * 求成员和
 	 * @return
 	 */
 	public Object sum() {
@@ -5009,7 +5009,7 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ƽֵ
+	 * 求平均值
 	 * @return
 	 */
 	public Object average() {
@@ -5041,7 +5041,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * õĳԱ
+	 * 得到最大的成员
 	 * @return
 	 */
 	public Object max() {
@@ -5087,7 +5087,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * õСĳԱ
+	 * 得到最小的成员
 	 * @return
 	 */
 	public Object min() {
@@ -5133,11 +5133,11 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(IArray array, int relation, BoolArray result, boolean isAnd) {
 		if (array instanceof IntArray) {
@@ -5158,11 +5158,11 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(Object value, int relation, BoolArray result, boolean isAnd) {
 		if (value instanceof BigDecimal) {
@@ -5190,9 +5190,9 @@ public class DoubleArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5221,7 +5221,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5250,7 +5250,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5279,7 +5279,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5308,7 +5308,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5337,7 +5337,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5369,9 +5369,9 @@ public class DoubleArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5400,7 +5400,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5429,7 +5429,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5458,7 +5458,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5487,7 +5487,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5516,7 +5516,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5557,9 +5557,9 @@ public class DoubleArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) != 0) {
@@ -5574,7 +5574,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) <= 0) {
@@ -5589,7 +5589,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) < 0) {
@@ -5604,7 +5604,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) >= 0) {
@@ -5619,7 +5619,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) > 0) {
@@ -5634,7 +5634,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) == 0) {
@@ -5652,9 +5652,9 @@ public class DoubleArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) == 0) {
@@ -5669,7 +5669,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) > 0) {
@@ -5684,7 +5684,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) >= 0) {
@@ -5699,7 +5699,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) < 0) {
@@ -5714,7 +5714,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) <= 0) {
@@ -5729,7 +5729,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) != 0) {
@@ -5756,9 +5756,9 @@ public class DoubleArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) != 0) {
@@ -5773,7 +5773,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) <= 0) {
@@ -5788,7 +5788,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) < 0) {
@@ -5803,7 +5803,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) >= 0) {
@@ -5818,7 +5818,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) > 0) {
@@ -5833,7 +5833,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) == 0) {
@@ -5851,9 +5851,9 @@ public class DoubleArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) == 0) {
@@ -5868,7 +5868,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) > 0) {
@@ -5883,7 +5883,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) >= 0) {
@@ -5898,7 +5898,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) < 0) {
@@ -5913,7 +5913,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) <= 0) {
@@ -5928,7 +5928,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) != 0) {
@@ -5956,9 +5956,9 @@ public class DoubleArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) != 0) {
@@ -5973,7 +5973,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) <= 0) {
@@ -5988,7 +5988,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) < 0) {
@@ -6003,7 +6003,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) >= 0) {
@@ -6018,7 +6018,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) > 0) {
@@ -6033,7 +6033,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) == 0) {
@@ -6051,9 +6051,9 @@ public class DoubleArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) == 0) {
@@ -6069,7 +6069,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) > 0) {
@@ -6084,7 +6084,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) >= 0) {
@@ -6099,7 +6099,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) < 0) {
@@ -6114,7 +6114,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) <= 0) {
@@ -6129,7 +6129,7 @@ public class DoubleArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) != 0) {
@@ -6150,9 +6150,9 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱİλ
-	 * @param array Ҳ
-	 * @return λ
+	 * 计算两个数组的相对应的成员的按位与
+	 * @param array 右侧数组
+	 * @return 按位与结果数组
 	 */
 	public IArray bitwiseAnd(IArray array) {
 		int size = this.size;
@@ -6217,8 +6217,8 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ȡʶȡֵΪжӦݣ
-	 * @param signArray ʶ
+	 * 取出标识数组取值为真的行对应的数据，组成新数组
+	 * @param signArray 标识数组
 	 * @return IArray
 	 */
 	public IArray select(IArray signArray) {
@@ -6274,8 +6274,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ѳԱתɶ鷵
-	 * @return 
+	 * 把成员转成对象数组返回
+	 * @return 对象数组
 	 */
 	public Object[] toArray() {
 		int size = this.size;
@@ -6299,8 +6299,8 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ѳԱָ
-	 * @param result ڴųԱ
+	 * 把成员填到指定的数组
+	 * @param result 用于存放成员的数组
 	 */
 	public void toArray(Object []result) {
 		int size = this.size;
@@ -6321,9 +6321,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ָλò
-	 * @param pos λã
-	 * @return غ벿Ԫعɵ
+	 * 把数组从指定位置拆成两个数组
+	 * @param pos 位置，包含
+	 * @return 返回后半部分元素构成的数组
 	 */
 	public IArray split(int pos) {
 		int size = this.size;
@@ -6348,9 +6348,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ָԪط
-	 * @param from ʼλã
-	 * @param to λã
+	 * 把指定区间元素分离出来组成新数组
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 * @return
 	 */
 	public IArray split(int from, int to) {
@@ -6376,7 +6376,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * Ԫؽ
+	 * 对数组的元素进行排序
 	 */
 	public void sort() {
 		int size = this.size;
@@ -6398,7 +6398,7 @@ public class DoubleArray implements NumberArray {
 			MultithreadUtil.sort(datas, 1, size + 1);
 			this.signs = null;
 		} else if (nullCount != size) {
-			// ѿԪƵǰ
+			// 把空元素移到数组前面
 			double []datas = this.datas;
 			for (int i = size, q = size; i > 0; --i) {
 				if (signs[i]) {
@@ -6408,7 +6408,7 @@ public class DoubleArray implements NumberArray {
 				}
 			}
 			
-			// ԷǿԪؽ
+			// 对非空元素进行排序
 			MultithreadUtil.sort(datas, nullCount + 1, size + 1);
 			for (int i = 1; i <= nullCount; ++i) {
 				signs[i] = true;
@@ -6417,8 +6417,8 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * Ԫؽ
-	 * @param comparator Ƚ
+	 * 对数组的元素进行排序
+	 * @param comparator 比较器
 	 */
 	public void sort(Comparator<Object> comparator) {
 		int size = this.size;
@@ -6457,7 +6457,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * Ƿм¼
+	 * 返回数组中是否含有记录
 	 * @return boolean
 	 */
 	public boolean hasRecord() {
@@ -6465,16 +6465,16 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * Ƿǣ
-	 * @param isPure trueǷǴ
-	 * @return boolean trueǣfalse
+	 * 返回是否是（纯）排列
+	 * @param isPure true：检查是否是纯排列
+	 * @return boolean true：是，false：不是
 	 */
 	public boolean isPmt(boolean isPure) {
 		return false;
 	}
 	
 	/**
-	 * ķת
+	 * 返回数组的反转数组
 	 * @return IArray
 	 */
 	public IArray rvs() {
@@ -6504,10 +6504,10 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ԪشСȡǰcountλ
-	 * @param count countС0ȡ|count|λ
-	 * @param isAll countΪ1ʱisAllȡֵΪtrueȡһԪصλãֻȡһ
-	 * @param isLast ǷӺʼ
+	 * 对数组元素从小到大做排名，取前count名的位置
+	 * @param count 如果count小于0则取后|count|名的位置
+	 * @param isAll count为正负1时，如果isAll取值为true则取所有排名第一的元素的位置，否则只取一个
+	 * @param isLast 是否从后开始找
 	 * @param ignoreNull
 	 * @return IntArray
 	 */
@@ -6521,7 +6521,7 @@ public class DoubleArray implements NumberArray {
 		boolean []signs = this.signs;
 		if (ignoreNull) {
 			if (count == 1) {
-				// ȡСֵλ
+				// 取最小值的位置
 				double minValue = 0;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -6598,7 +6598,7 @@ public class DoubleArray implements NumberArray {
 					return result;
 				}
 			} else if (count > 1) {
-				// ȡСcountԪصλ
+				// 取最小的count个元素的位置
 				int next = count + 1;
 				DoubleArray valueArray = new DoubleArray(next);
 				IntArray posArray = new IntArray(next);
@@ -6622,7 +6622,7 @@ public class DoubleArray implements NumberArray {
 				
 				return posArray;
 			} else if (count == -1) {
-				// ȡֵλ
+				// 取最大值的位置
 				double maxValue = 0;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -6699,7 +6699,7 @@ public class DoubleArray implements NumberArray {
 					return result;
 				}
 			} else if (count < -1) {
-				// ȡcountԪصλ
+				// 取最大的count个元素的位置
 				count = -count;
 				int next = count + 1;
 				DoubleArray valueArray = new DoubleArray(next);
@@ -6728,7 +6728,7 @@ public class DoubleArray implements NumberArray {
 			}
 		} else {
 			if (count == 1) {
-				// ȡСֵλ
+				// 取最小值的位置
 				if (isAll) {
 					IntArray result = new IntArray(8);
 					if (signs != null) {
@@ -6808,7 +6808,7 @@ public class DoubleArray implements NumberArray {
 					return result;
 				}
 			} else if (count > 1) {
-				// ȡСcountԪصλ
+				// 取最小的count个元素的位置
 				int next = count + 1;
 				DoubleArray valueArray = new DoubleArray(next);
 				IntArray posArray = new IntArray(next);
@@ -6839,7 +6839,7 @@ public class DoubleArray implements NumberArray {
 				
 				return posArray;
 			} else if (count == -1) {
-				// ȡֵλ
+				// 取最大值的位置
 				double maxValue = 0;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -6916,7 +6916,7 @@ public class DoubleArray implements NumberArray {
 					return result;
 				}
 			} else if (count < -1) {
-				// ȡcountԪصλ
+				// 取最大的count个元素的位置
 				count = -count;
 				int next = count + 1;
 				DoubleArray valueArray = new DoubleArray(next);
@@ -6951,7 +6951,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ѵǰתɶ飬ǰǶ򷵻鱾
+	 * 把当前数组转成对象数组，如果当前数组是对象数组则返回数组本身
 	 * @return ObjectArray
 	 */
 	public ObjectArray toObjectArray() {
@@ -6976,7 +6976,7 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * Ѷתɴ飬ת׳쳣
+	 * 把对象数组转成纯类型数组，不能转则抛出异常
 	 * @return IArray
 	 */
 	public IArray toPureArray() {
@@ -6984,17 +6984,17 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ޸ָԪصֵ
-	 * @param index 1ʼ
-	 * @param value ֵ
+	 * 修改数组指定元素的值
+	 * @param index 索引，从1开始计数
+	 * @param value 值
 	 */
 	public void setDouble(int index, double value) {
 		datas[index] = value;
 	}
 	
 	/**
-	 * л
-	 * @param refOrigin ԴУ
+	 * 保留数组数据用于生成序列或序表
+	 * @param refOrigin 引用源列，不复制数据
 	 * @return
 	 */
 	public IArray reserve(boolean refOrigin) {
@@ -7009,9 +7009,9 @@ public class DoubleArray implements NumberArray {
 	}
 	
 	/**
-	 * ѡԱ飬ӵǰѡ־Ϊtrueģotherѡ־Ϊfalse
-	 * @param signArray ־
-	 * @param other һ
+	 * 根据条件从两个数组选出成员组成新数组，从当前数组选出标志为true的，从other数组选出标志为false的
+	 * @param signArray 标志数组
+	 * @param other 另一个数组
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, IArray other) {
@@ -7105,9 +7105,9 @@ public class DoubleArray implements NumberArray {
 	}
 
 	/**
-	 * ӵǰѡ־Ϊtrueģ־Ϊfalseóvalue
-	 * @param signArray ־
-	 * @param other ֵ
+	 * 根据条件从当前数组选出标志为true的，标志为false的置成value
+	 * @param signArray 标志数组
+	 * @param other 值
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, Object value) {
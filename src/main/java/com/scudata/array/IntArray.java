@@ -20,17 +20,17 @@ import com.scudata.thread.MultithreadUtil;
 import com.scudata.util.Variant;
 
 /**
- * 飬1ʼ
+ * 整数数组，从1开始计数
  * @author WangXiaoJun
  *
  */
 public class IntArray implements NumberArray {
 	private static final long serialVersionUID = 1L;
-	private static final byte NULL_SIGN = 60; // лʱʾsignsǷΪ
+	private static final byte NULL_SIGN = 60; // 用于序列化时表示signs是否为空
 	
-	private int []datas; // 0ԪرʾǷʱ
-	private boolean []signs; // ʾӦλõԪǷnulltrueʾnullnullԱʱŲ
-	private int size; // Ԫ
+	private int []datas; // 第0个元素表示是否是临时数组
+	private boolean []signs; // 表示相应位置的元素是否是null（true表示null），有null成员时才产生
+	private int size; // 元素数量
 
 	public IntArray() {
 		datas = new int[DEFAULT_LEN];
@@ -41,9 +41,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * 䴴һ
-	 * @param startValue ʼֵ
-	 * @param endValue ֵ
+	 * 由区间创建一个数组
+	 * @param startValue 起始值（包含）
+	 * @param endValue 结束值（包含）
 	 */
 	public IntArray(int startValue, int endValue) {
 		size = endValue - startValue + 1;
@@ -61,10 +61,10 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ȽָָĴСnullС
-	 * @param n1 ֵ
-	 * @param o2 ֵ
-	 * @return 1ֵ0ͬ-1ֵ
+	 * 比较指定数和指定对象的大小，null最小
+	 * @param n1 左值
+	 * @param o2 右值
+	 * @return 1：左值大，0：同样大，-1：右值大
 	 */
 	private static int compare(int n1, Object o2) {
 		if (o2 instanceof Integer) {
@@ -105,8 +105,8 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ȡʹڴϢʾ
-	 * @return ʹ
+	 * 取数组的类型串，用于错误信息提示
+	 * @return 类型串
 	 */
 	public String getDataType() {
 		MessageManager mm = EngineMessage.get();
@@ -114,7 +114,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * 
+	 * 复制数组
 	 * @return
 	 */
 	public IArray dup() {
@@ -132,8 +132,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * дݵ
-	 * @param out 
+	 * 写内容到流
+	 * @param out 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -160,8 +160,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ж
-	 * @param in 
+	 * 从流中读内容
+	 * @param in 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -229,7 +229,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * һͬ͵
+	 * 返回一个同类型的数组
 	 * @param count
 	 * @return
 	 */
@@ -238,8 +238,8 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ׷ԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素，如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void add(Object o) {
 		if (o instanceof Integer) {
@@ -260,8 +260,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(IArray array) {
 		int size2 = array.size();
@@ -313,9 +313,9 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
-	 * @param count Ԫظ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
+	 * @param count 元素个数
 	 */
 	public void addAll(IArray array, int count) {
 		if (count == 0) {
@@ -366,8 +366,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(Object []array) {
 		for (Object obj : array) {
@@ -397,10 +397,10 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ԪأͲ򷵻
-	 * @param index λã1ʼ
-	 * @param o Ԫֵ
-	 * @return ͼ򷵻Դ飬򷵻
+	 * 插入元素，如果类型不兼容则返回新数组
+	 * @param index 插入位置，从1开始计数
+	 * @param o 元素值
+	 * @return 如果类型兼容则返回源数组，否则返回新数组
 	 */
 	public IArray insertInt(int index, int o) {
 		ensureCapacity(size + 1);
@@ -417,9 +417,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ԪأͲ׳쳣
-	 * @param index λã1ʼ
-	 * @param o Ԫֵ
+	 * 插入元素，如果类型不兼容则抛出异常
+	 * @param index 插入位置，从1开始计数
+	 * @param o 元素值
 	 */
 	public void insert(int index, Object o) {
 		if (o instanceof Integer) {
@@ -455,9 +455,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, IArray array) {
 		if (array instanceof IntArray) {
@@ -495,9 +495,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, Object []array) {
 		boolean containNull = false;
@@ -547,8 +547,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷ԪأΪ㹻ռԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素），如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void push(Object o) {
 		if (o instanceof Integer) {
@@ -567,9 +567,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void push(IArray array, int index) {
 		if (array instanceof IntArray) {
@@ -588,9 +588,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void add(IArray array, int index) {
 		if (array.isNull(index)) {
@@ -611,10 +611,10 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪǰָԪأͲ׳쳣
-	 * @param curIndex ǰԪ1ʼ
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素设给到当前数组的指定元素，如果类型不兼容则抛出异常
+	 * @param curIndex 当前数组的元素索引，从1开始计数
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void set(int curIndex, IArray array, int index) {
 		if (array.isNull(index)) {
@@ -631,8 +631,8 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ׷Ԫ
-	 * @param n ֵ
+	 * 追加元素
+	 * @param n 值
 	 */
 	public void addInt(int n) {
 		ensureCapacity(size + 1);
@@ -640,7 +640,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷ӿԪ
+	 * 追加空元素
 	 */
 	public void pushNull() {
 		if (signs == null) {
@@ -651,24 +651,24 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷ԪأΪ㹻ռԪأ
-	 * @param n ֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素）
+	 * @param n 值
 	 */
 	public void push(int n) {
 		datas[++size] = n;
 	}
 	
 	/**
-	 * ׷ԪأΪ㹻ռԪأ
-	 * @param n ֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素）
+	 * @param n 值
 	 */
 	public void pushInt(int n) {
 		datas[++size] = n;
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param index 1ʼ
+	 * 取指定位置元素
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public Object get(int index) {
@@ -680,35 +680,35 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ȡָλԪصֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的整数值
+	 * @param index 索引，从1开始计数
+	 * @return 整数值
 	 */
 	public int getInt(int index) {
 		return datas[index];
 	}
 
 	/**
-	 * ȡָλԪصĳֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的长整数值
+	 * @param index 索引，从1开始计数
+	 * @return 长整数值
 	 */
 	public long getLong(int index) {
 		return datas[index];
 	}
 
 	/**
-	 * ȡָλԪصĸֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的浮点数值
+	 * @param index 索引，从1开始计数
+	 * @return 浮点数值
 	 */
 	public double getDouble(int index) {
 		return datas[index];
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray) {
@@ -735,11 +735,11 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
-	 * @param start ʼλã
-	 * @param end λã
-	 * @param doCheck trueλÿܰ00λnull䣬false0
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，包含
+	 * @param doCheck true：位置可能包含0，0的位置用null填充，false：不会包含0
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray, int start, int end, boolean doCheck) {
@@ -795,8 +795,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param NumberArray λ
+	 * 取指定位置元素组成新数组
+	 * @param NumberArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(NumberArray indexArray) {
@@ -824,9 +824,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡĳһ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 取某一区段组成新数组
+	 * @param start 起始位置（包括）
+	 * @param end 结束位置（不包括）
 	 * @return IArray
 	 */
 	public IArray get(int start, int end) {
@@ -844,8 +844,8 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ʹбСminCapacity
-	 * @param minCapacity С
+	 * 使列表的容量不小于minCapacity
+	 * @param minCapacity 最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 		if (datas.length <= minCapacity) {
@@ -867,7 +867,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ʹԪ
+	 * 调整容量，使其与元素数相等
 	 */
 	public void trimToSize() {
 		int newLen = size + 1;
@@ -885,8 +885,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * жָλõԪǷǿ
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是空
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isNull(int index) {
@@ -894,7 +894,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * жԪǷTrue
+	 * 判断元素是否是True
 	 * @return BoolArray
 	 */
 	public BoolArray isTrue() {
@@ -918,7 +918,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * жԪǷǼ
+	 * 判断元素是否是假
 	 * @return BoolArray
 	 */
 	public BoolArray isFalse() {
@@ -939,43 +939,43 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * жָλõԪǷTrue
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是True
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isTrue(int index) {
-		// ǿtrue
+		// 非空则是true
 		return signs == null || !signs[index];
 	}
 	
 	/**
-	 * жָλõԪǷFalse
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是False
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isFalse(int index) {
-		// false
+		// 空则是false
 		return signs != null && signs[index];
 	}
 
 	/**
-	 * ǷǼʱ飬ʱĿԱ޸ģ f1+f2+f3ֻһŽ
-	 * @return trueʱ飬falseʱ
+	 * 是否是计算过程中临时产生的数组，临时产生的可以被修改，比如 f1+f2+f3，只需产生一个数组存放结果
+	 * @return true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public boolean isTemporary() {
 		return datas[0] == 1;
 	}
 
 	/**
-	 * ǷǼʱ
-	 * @param ifTemporary trueʱ飬falseʱ
+	 * 设置是否是计算过程中临时产生的数组
+	 * @param ifTemporary true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public void setTemporary(boolean ifTemporary) {
 		datas[0] = ifTemporary ? 1 : 0;
 	}
 	
 	/**
-	 * ɾһԪ
+	 * 删除最后一个元素
 	 */
 	public void removeLast() {
 		if (signs != null) {
@@ -986,8 +986,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾָλõԪ
-	 * @param index 1ʼ
+	 * 删除指定位置的元素
+	 * @param index 索引，从1开始计数
 	 */
 	public void remove(int index) {
 		System.arraycopy(datas, index + 1, datas, index, size - index);
@@ -1001,9 +1001,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾָڵԪ
-	 * @param from ʼλã
-	 * @param to λã
+	 * 删除指定区间内的元素
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 */
 	public void removeRange(int fromIndex, int toIndex) {
 		System.arraycopy(datas, toIndex + 1, datas, fromIndex, size - toIndex);
@@ -1022,8 +1022,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾָλõԪأŴС
-	 * @param seqs 
+	 * 删除指定位置的元素，序号从小到大排序
+	 * @param seqs 索引数组
 	 */
 	public void remove(int []seqs) {
 		int delCount = 0;
@@ -1065,9 +1065,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ָڵ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 保留指定区间内的数据
+	 * @param start 起始位置（包含）
+	 * @param end 结束位置（包含）
 	 */
 	public void reserve(int start, int end) {
 		int []datas = this.datas;
@@ -1093,8 +1093,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ķǿԪĿ
-	 * @return ǿԪĿ
+	 * 返回数组的非空元素数目
+	 * @return 非空元素数目
 	 */
 	public int count() {
 		boolean []signs = this.signs;
@@ -1114,8 +1114,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * жǷȡֵΪtrueԪ
-	 * @return trueУfalseû
+	 * 判断数组是否有取值为true的元素
+	 * @return true：有，false：没有
 	 */
 	public boolean containTrue() {
 		int size = this.size;
@@ -1138,7 +1138,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * صһΪյԪ
+	 * 返回第一个不为空的元素
 	 * @return Object
 	 */
 	public Object ifn() {
@@ -1162,9 +1162,9 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ޸ָԪصֵͲ׳쳣
-	 * @param index 1ʼ
-	 * @param obj ֵ
+	 * 修改数组指定元素的值，如果类型不兼容则抛出异常
+	 * @param index 索引，从1开始计数
+	 * @param obj 值
 	 */
 	public void set(int index, Object obj) {
 		if (obj == null) {
@@ -1187,7 +1187,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾеԪ
+	 * 删除所有的元素
 	 */
 	public void clear() {
 		signs = null;
@@ -1195,9 +1195,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @return int Ԫص,ڷظĲλ.
+	 * @return int 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem) {
 		if (elem instanceof Number) {
@@ -1208,7 +1208,7 @@ public class IntArray implements NumberArray {
 			int low = 1, high = size;
 			
 			if (signs != null) {
-				// null
+				// 跳过null
 				while (low <= high) {
 					if (signs[low]) {
 						low++;
@@ -1234,7 +1234,7 @@ public class IntArray implements NumberArray {
 					int mid = (low + high) >> 1;
 					if (compare(datas[mid], elem) < 0) {
 						low = mid + 1;
-					} else { // 0ȵ
+					} else { // 大于0，不会有相等的情况
 						high = mid - 1;
 					}
 				}
@@ -1255,11 +1255,11 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @param start ʼλã
-	 * @param end λã
-	 * @return Ԫص,ڷظĲλ.
+	 * @param start 起始查找位置（包含）
+	 * @param end 结束查找位置（包含）
+	 * @return 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem, int start, int end) {
 		if (elem instanceof Number) {
@@ -1270,7 +1270,7 @@ public class IntArray implements NumberArray {
 			int low = start, high = end;
 			
 			if (signs != null) {
-				// null
+				// 跳过null
 				while (low <= high) {
 					if (signs[low]) {
 						low++;
@@ -1296,7 +1296,7 @@ public class IntArray implements NumberArray {
 					int mid = (low + high) >> 1;
 					if (compare(datas[mid], elem) < 0) {
 						low = mid + 1;
-					} else { // 0ȵ
+					} else { // 大于0，不会有相等的情况
 						high = mid - 1;
 					}
 				}
@@ -1322,7 +1322,7 @@ public class IntArray implements NumberArray {
 		int low = 1, high = size;
 		
 		if (signs != null) {
-			// null
+			// 跳过null
 			while (low <= high) {
 				if (signs[low]) {
 					low++;
@@ -1346,7 +1346,7 @@ public class IntArray implements NumberArray {
 		return -low; // key not found
 	}
 	
-	// 鰴򣬽нֲ
+	// 数组按降序排序，进行降序二分查找
 	private int descBinarySearch(int elem) {
 		int []datas = this.datas;
 		int low = 1, high = size;
@@ -1367,16 +1367,16 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * бǷָԪ
-	 * @param elem Object ҵԪ
-	 * @return boolean truefalse
+	 * 返回列表中是否包含指定元素
+	 * @param elem Object 待查找的元素
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object elem) {
 		if (elem instanceof Number) {
 			Number number = (Number)elem;
 			int v = number.intValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return false;
 			}
@@ -1442,10 +1442,10 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * жԪǷڵǰ
-	 * @param isSorted ǰǷ
-	 * @param array 
-	 * @param result ڴŽֻȡֵΪtrue
+	 * 判断数组的元素是否在当前数组中
+	 * @param isSorted 当前数组是否有序
+	 * @param array 数组
+	 * @param result 用于存放结果，只找取值为true的
 	 */
 	public void contains(boolean isSorted, IArray array, BoolArray result) {
 		int resultSize = result.size();
@@ -1525,26 +1525,26 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * бǷָԪأʹõȺűȽ
+	 * 返回列表中是否包含指定元素，使用等号比较
 	 * @param elem
-	 * @return boolean truefalse
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean objectContains(Object elem) {
 		return false;
 	}
 	
 	/**
-	 * Ԫ״γֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中首次出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int firstIndexOf(Object elem, int start) {
 		if (elem instanceof Number) {
 			Number number = (Number)elem;
 			int v = number.intValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return 0;
 			}
@@ -1587,17 +1587,17 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * Ԫֵλ
-	 * @param elem ҵԪ
-	 * @param start Ӻ濪ʼҵλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中最后出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 从后面开始查找的位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int lastIndexOf(Object elem, int start) {
 		if (elem instanceof Number) {
 			Number number = (Number)elem;
 			int v = number.intValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return 0;
 			}
@@ -1639,11 +1639,11 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * Ԫгֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @param isSorted ǰǷ
-	 * @param isFromHead trueͷʼfalseβǰʼ
+	 * 返回元素在数组中所有出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @param isSorted 当前数组是否有序
+	 * @param isFromHead true：从头开始遍历，false：从尾向前开始遍历
 	 * @return IntArray
 	 */
 	public IntArray indexOfAll(Object elem, int start, boolean isSorted, boolean isFromHead) {
@@ -1707,13 +1707,13 @@ public class IntArray implements NumberArray {
 			int []datas = this.datas;
 			int v = number.intValue();
 			
-			// ҵһ
+			// 找到第一个
 			int first = index;
 			while (first > start && (signs == null || !signs[first - 1]) && datas[first - 1] == v) {
 				first--;
 			}
 			
-			// ҵһ
+			// 找到最后一个
 			int last = index;
 			while (last < end && (signs == null || !signs[last + 1]) && datas[last + 1] == v) {
 				last++;
@@ -1735,7 +1735,7 @@ public class IntArray implements NumberArray {
 			int []datas = this.datas;
 			int v = number.intValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return new IntArray(1);
 			}
@@ -1760,8 +1760,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * Աֵ
-	 * @return IArray ֵ
+	 * 对数组成员求绝对值
+	 * @return IArray 绝对值数组
 	 */
 	public IArray abs() {
 		int size = this.size;
@@ -1785,7 +1785,7 @@ public class IntArray implements NumberArray {
 			result.setTemporary(true);
 		}
 		
-		// ҪжϳԱǷnull
+		// 不需要判断成员是否是null
 		for (int i = 1; i <= size; ++i) {
 			if (datas[i] < 0) {
 				datas[i] = -datas[i];
@@ -1796,14 +1796,14 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求负
+	 * @return IArray 负值数组
 	 */
 	public IArray negate() {
 		int size = this.size;
 		int []datas = this.datas;
 		
-		// ҪжϳԱǷnull
+		// 不需要判断成员是否是null
 		if (isTemporary()) {
 			for (int i = 1; i <= size; ++i) {
 				datas[i] = -datas[i];
@@ -1829,15 +1829,15 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求非
+	 * @return IArray 非值数组
 	 */
 	public IArray not() {
 		boolean []signs = this.signs;
 		int size = this.size;
 		
 		if (signs == null) {
-			// ûпԪʱȡǶfalse
+			// 没有空元素时取非都是false
 			return new ConstArray(Boolean.FALSE, size);
 		} else {
 			boolean []newDatas = new boolean[size + 1];
@@ -1850,17 +1850,17 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * жĳԱǷ԰null
-	 * @return truefalseзֵ
+	 * 判断数组的成员是否都是数（可以包含null）
+	 * @return true：都是数，false：含有非数的值
 	 */
 	public boolean isNumberArray() {
 		return true;
 	}
 
 	/**
-	 * ӦĳԱĺ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的和
+	 * @param array 右侧数组
+	 * @return 和数组
 	 */
 	public IArray memberAdd(IArray array) {
 		if (array instanceof IntArray) {
@@ -1885,12 +1885,12 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ĳԱָĺ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的和
+	 * @param value 常数
+	 * @return 和数组
 	 */
 	public IArray memberAdd(Object value) {
-		// ַֺ԰Ѵת֣תnull
+		// 数字和字符串相加则尝试把串转成数字，转不成则当null处理
 		if (value instanceof String) {
 			value = Variant.parseNumber((String)value);
 		}
@@ -2054,9 +2054,9 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĲ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的差
+	 * @param array 右侧数组
+	 * @return 差数组
 	 */
 	public IArray memberSubtract(IArray array) {
 		if (array instanceof IntArray) {
@@ -2481,9 +2481,9 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĻ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的积
+	 * @param array 右侧数组
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(IArray array) {
 		if (array instanceof IntArray) {
@@ -2504,9 +2504,9 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ĳԱָĻ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的积
+	 * @param value 常数
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(Object value) {
 		int size = this.size;
@@ -2664,9 +2664,9 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĳ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的除
+	 * @param array 右侧数组
+	 * @return 商数组
 	 */
 	public IArray memberDivide(IArray array) {
 		if (array instanceof IntArray) {
@@ -2981,9 +2981,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ӦԱȡгԱ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的数成员取余或序列成员异或列
+	 * @param array 右侧数组
+	 * @return 余数数组或序列异或列数组
 	 */
 	public IArray memberMod(IArray array) {
 		if (array instanceof IntArray) {
@@ -3028,7 +3028,7 @@ public class IntArray implements NumberArray {
 				resultSigns = s1;
 				for (int i = 1; i <= size; ++i) {
 					if (s2[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3047,7 +3047,7 @@ public class IntArray implements NumberArray {
 				resultSigns = s2;
 				for (int i = 1; i <= size; ++i) {
 					if (s1[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3115,7 +3115,7 @@ public class IntArray implements NumberArray {
 				resultSigns = s2;
 				for (int i = 1; i <= size; ++i) {
 					if (s1[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3183,7 +3183,7 @@ public class IntArray implements NumberArray {
 				resultSigns = s2;
 				for (int i = 1; i <= size; ++i) {
 					if (s1[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3397,9 +3397,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ԱгԱ
-	 * @param array Ҳ
-	 * @return ֵв
+	 * 计算两个数组的数成员整除或序列成员差集
+	 * @param array 右侧数组
+	 * @return 整除值数组或序列差集数组
 	 */
 	public IArray memberIntDivide(IArray array) {
 		if (array instanceof IntArray) {
@@ -3444,7 +3444,7 @@ public class IntArray implements NumberArray {
 				resultSigns = s1;
 				for (int i = 1; i <= size; ++i) {
 					if (s2[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3463,7 +3463,7 @@ public class IntArray implements NumberArray {
 				resultSigns = s2;
 				for (int i = 1; i <= size; ++i) {
 					if (s1[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3531,7 +3531,7 @@ public class IntArray implements NumberArray {
 				resultSigns = s2;
 				for (int i = 1; i <= size; ++i) {
 					if (s1[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3771,9 +3771,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ӦĳԱбȽϣرȽϽ
-	 * @param rightArray Ҳ
-	 * @return IntArray 10ȣ-1Ҳ
+	 * 两个数组的相对应的成员进行比较，返回比较结果数组
+	 * @param rightArray 右侧数组
+	 * @return IntArray 1：左侧大，0：相等，-1：右侧大
 	 */
 	public IntArray memberCompare(NumberArray rightArray) {
 		int size = this.size;
@@ -3849,10 +3849,10 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(IArray array, int relation) {
 		if (array instanceof IntArray) {
@@ -3877,10 +3877,10 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(Object value, int relation) {
 		if (value instanceof Double || value instanceof Float) {
@@ -3948,7 +3948,7 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -3983,7 +3983,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4018,7 +4018,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4053,7 +4053,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4088,7 +4088,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4123,7 +4123,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4203,7 +4203,7 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4238,7 +4238,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4273,7 +4273,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4308,7 +4308,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4343,7 +4343,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4378,7 +4378,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4458,7 +4458,7 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4493,7 +4493,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4528,7 +4528,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4563,7 +4563,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4598,7 +4598,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4633,7 +4633,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4711,7 +4711,7 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] == value;
@@ -4726,7 +4726,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] > value;
@@ -4741,7 +4741,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] >= value;
@@ -4756,7 +4756,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] < value;
@@ -4771,7 +4771,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] <= value;
@@ -4786,7 +4786,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] != value;
@@ -4828,7 +4828,7 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) == 0;
@@ -4843,7 +4843,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) > 0;
@@ -4858,7 +4858,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) >= 0;
@@ -4873,7 +4873,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) < 0;
@@ -4888,7 +4888,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) <= 0;
@@ -4903,7 +4903,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) != 0;
@@ -4945,7 +4945,7 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) == 0;
@@ -4960,7 +4960,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) > 0;
@@ -4975,7 +4975,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) >= 0;
@@ -4990,7 +4990,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) < 0;
@@ -5005,7 +5005,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) <= 0;
@@ -5020,7 +5020,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) != 0;
@@ -5145,7 +5145,7 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) == 0;
@@ -5160,7 +5160,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) > 0;
@@ -5175,7 +5175,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) >= 0;
@@ -5190,7 +5190,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) < 0;
@@ -5205,7 +5205,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) <= 0;
@@ -5220,7 +5220,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) != 0;
@@ -5262,9 +5262,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ȽĴС
-	 * @param array Ҳ
-	 * @return 1ǰ0ȣ-1ǰС
+	 * 比较两个数组的大小
+	 * @param array 右侧数组
+	 * @return 1：当前数组大，0：两个数组相等，-1：当前数组小
 	 */
 	public int compareTo(IArray array) {
 		int size1 = this.size;
@@ -5443,9 +5443,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * 2ԱıȽֵ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 计算数组的2个成员的比较值
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public int memberCompare(int index1, int index2) {
@@ -5461,9 +5461,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * жԱǷ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 判断数组的两个成员是否相等
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public boolean isMemberEquals(int index1, int index2) {
@@ -5479,11 +5479,11 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * жָԪǷͬ
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return trueͬfalseͬ
+	 * 判断两个数组的指定元素是否相同
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return true：相同，false：不相同
 	 */
 	public boolean isEquals(int curIndex, IArray array, int index) {
 		if (isNull(curIndex)) {
@@ -5502,10 +5502,10 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * жָԪǷֵ
-	 * @param curIndex Ԫ1ʼ
-	 * @param value ֵ
-	 * @return trueȣfalse
+	 * 判断数组的指定元素是否与给定值相等
+	 * @param curIndex 数组元素索引，从1开始计数
+	 * @param value 值
+	 * @return true：相等，false：不相等
 	 */
 	public boolean isEquals(int curIndex, Object value) {
 		if (signs == null || !signs[curIndex]) {
@@ -5528,11 +5528,11 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * жָԪصĴС
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return СڣС0ڣ0ڣ0
+	 * 判断两个数组的指定元素的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return 小于：小于0，等于：0，大于：大于0
 	 */
 	public int compareTo(int curIndex, IArray array, int index) {
 		if (isNull(curIndex)) {
@@ -5551,9 +5551,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ȽָԪֵĴС
-	 * @param curIndex ǰԪص
-	 * @param value ҪȽϵֵ
+	 * 比较数组的指定元素与给定值的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param value 要比较的值
 	 * @return
 	 */
 	public int compareTo(int curIndex, Object value) {
@@ -5567,9 +5567,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡָԱĹϣֵ
-	 * @param index Ա1ʼ
-	 * @return ָԱĹϣֵ
+	 * 取指定成员的哈希值
+	 * @param index 成员索引，从1开始计数
+	 * @return 指定成员的哈希值
 	 */
 	public int hashCode(int index) {
 		if (signs == null || !signs[index]) {
@@ -5580,7 +5580,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * Ա
+	 * 求成员和
 	 * @return
 	 */
 	public Object sum() {
@@ -5609,7 +5609,7 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ƽֵ
+	 * 求平均值
 	 * @return
 	 */
 	public Object average() {
@@ -5641,7 +5641,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * õĳԱ
+	 * 得到最大的成员
 	 * @return
 	 */
 	public Object max() {
@@ -5687,7 +5687,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * õСĳԱ
+	 * 得到最小的成员
 	 * @return
 	 */
 	public Object min() {
@@ -5733,11 +5733,11 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(IArray array, int relation, BoolArray result, boolean isAnd) {
 		if (array instanceof IntArray) {
@@ -5758,11 +5758,11 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(Object value, int relation, BoolArray result, boolean isAnd) {
 		if (value instanceof Double || value instanceof Float) {
@@ -5792,9 +5792,9 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5823,7 +5823,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5852,7 +5852,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5881,7 +5881,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5910,7 +5910,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5939,7 +5939,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5971,9 +5971,9 @@ public class IntArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6002,7 +6002,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6031,7 +6031,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6060,7 +6060,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6089,7 +6089,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6118,7 +6118,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6161,9 +6161,9 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6192,7 +6192,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6221,7 +6221,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6250,7 +6250,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6279,7 +6279,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6308,7 +6308,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6340,9 +6340,9 @@ public class IntArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6371,7 +6371,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6400,7 +6400,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6429,7 +6429,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6458,7 +6458,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6487,7 +6487,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6530,9 +6530,9 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6561,7 +6561,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6590,7 +6590,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6619,7 +6619,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6648,7 +6648,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6677,7 +6677,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6709,9 +6709,9 @@ public class IntArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6740,7 +6740,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6769,7 +6769,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6798,7 +6798,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6827,7 +6827,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6856,7 +6856,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6897,9 +6897,9 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] != value) {
@@ -6914,7 +6914,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] <= value) {
@@ -6929,7 +6929,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] < value) {
@@ -6944,7 +6944,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] >= value) {
@@ -6959,7 +6959,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] > value) {
@@ -6974,7 +6974,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] == value) {
@@ -6992,9 +6992,9 @@ public class IntArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] == value) {
@@ -7009,7 +7009,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] > value) {
@@ -7024,7 +7024,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] >= value) {
@@ -7039,7 +7039,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] < value) {
@@ -7054,7 +7054,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] <= value) {
@@ -7069,7 +7069,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] != value) {
@@ -7096,9 +7096,9 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) != 0) {
@@ -7113,7 +7113,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) <= 0) {
@@ -7128,7 +7128,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) < 0) {
@@ -7143,7 +7143,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) >= 0) {
@@ -7158,7 +7158,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) > 0) {
@@ -7173,7 +7173,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) == 0) {
@@ -7191,9 +7191,9 @@ public class IntArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) == 0) {
@@ -7208,7 +7208,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) > 0) {
@@ -7223,7 +7223,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) >= 0) {
@@ -7238,7 +7238,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) < 0) {
@@ -7253,7 +7253,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) <= 0) {
@@ -7268,7 +7268,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) != 0) {
@@ -7295,9 +7295,9 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) != 0) {
@@ -7312,7 +7312,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) <= 0) {
@@ -7327,7 +7327,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) < 0) {
@@ -7342,7 +7342,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) >= 0) {
@@ -7357,7 +7357,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) > 0) {
@@ -7372,7 +7372,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) == 0) {
@@ -7390,9 +7390,9 @@ public class IntArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) == 0) {
@@ -7407,7 +7407,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) > 0) {
@@ -7422,7 +7422,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) >= 0) {
@@ -7437,7 +7437,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) < 0) {
@@ -7452,7 +7452,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) <= 0) {
@@ -7467,7 +7467,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) != 0) {
@@ -7495,9 +7495,9 @@ public class IntArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) != 0) {
@@ -7512,7 +7512,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) <= 0) {
@@ -7527,7 +7527,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) < 0) {
@@ -7542,7 +7542,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) >= 0) {
@@ -7557,7 +7557,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) > 0) {
@@ -7572,7 +7572,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) == 0) {
@@ -7590,9 +7590,9 @@ public class IntArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) == 0) {
@@ -7608,7 +7608,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) > 0) {
@@ -7623,7 +7623,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) >= 0) {
@@ -7638,7 +7638,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) < 0) {
@@ -7653,7 +7653,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) <= 0) {
@@ -7668,7 +7668,7 @@ public class IntArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) != 0) {
@@ -7689,9 +7689,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ӦĳԱİλ
-	 * @param array Ҳ
-	 * @return λ
+	 * 计算两个数组的相对应的成员的按位与
+	 * @param array 右侧数组
+	 * @return 按位与结果数组
 	 */
 	public IArray bitwiseAnd(IArray array) {
 		int size = this.size;
@@ -7756,8 +7756,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡʶȡֵΪжӦݣ
-	 * @param signArray ʶ
+	 * 取出标识数组取值为真的行对应的数据，组成新数组
+	 * @param signArray 标识数组
 	 * @return IArray
 	 */
 	public IArray select(IArray signArray) {
@@ -7813,22 +7813,22 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * arrayָԪؼӵǰָԪ
-	 * @param curIndex ǰԪص
-	 * @param array Ҫӵ
-	 * @param index ҪӵԪص
+	 * 把array的指定元素加到当前数组的指定元素上
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要相加的数组
+	 * @param index 要相加的数组的元素的索引
 	 * @return IArray
 	 */
 	public IArray memberAdd(int curIndex, IArray array, int index) {
-		// ӷLongArray㣬õ˷
+		// 加法都产生LongArray进行运算，不会调用到此方法
 		MessageManager mm = EngineMessage.get();
 		throw new RQException(getDataType() + mm.getMessage("Variant2.with") +
 				array.getDataType() + mm.getMessage("Variant2.illAdd"));
 	}	
 	
 	/**
-	 * ѳԱתɶ鷵
-	 * @return 
+	 * 把成员转成对象数组返回
+	 * @return 对象数组
 	 */
 	public Object[] toArray() {
 		int size = this.size;
@@ -7852,8 +7852,8 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ѳԱָ
-	 * @param result ڴųԱ
+	 * 把成员填到指定的数组
+	 * @param result 用于存放成员的数组
 	 */
 	public void toArray(Object []result) {
 		int size = this.size;
@@ -7874,9 +7874,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ָλò
-	 * @param pos λã
-	 * @return غ벿Ԫعɵ
+	 * 把数组从指定位置拆成两个数组
+	 * @param pos 位置，包含
+	 * @return 返回后半部分元素构成的数组
 	 */
 	public IArray split(int pos) {
 		int size = this.size;
@@ -7901,9 +7901,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ָԪط
-	 * @param from ʼλã
-	 * @param to λã
+	 * 把指定区间元素分离出来组成新数组
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 * @return
 	 */
 	public IArray split(int from, int to) {
@@ -7929,7 +7929,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * Ԫؽ
+	 * 对数组的元素进行排序
 	 */
 	public void sort() {
 		int size = this.size;
@@ -7951,7 +7951,7 @@ public class IntArray implements NumberArray {
 			MultithreadUtil.sort(datas, 1, size + 1);
 			this.signs = null;
 		} else if (nullCount != size) {
-			// ѿԪƵǰ
+			// 把空元素移到数组前面
 			int []datas = this.datas;
 			for (int i = size, q = size; i > 0; --i) {
 				if (signs[i]) {
@@ -7961,7 +7961,7 @@ public class IntArray implements NumberArray {
 				}
 			}
 			
-			// ԷǿԪؽ
+			// 对非空元素进行排序
 			MultithreadUtil.sort(datas, nullCount + 1, size + 1);
 			for (int i = 1; i <= nullCount; ++i) {
 				signs[i] = true;
@@ -7970,8 +7970,8 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * Ԫؽ
-	 * @param comparator Ƚ
+	 * 对数组的元素进行排序
+	 * @param comparator 比较器
 	 */
 	public void sort(Comparator<Object> comparator) {
 		int size = this.size;
@@ -8010,7 +8010,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * Ƿм¼
+	 * 返回数组中是否含有记录
 	 * @return boolean
 	 */
 	public boolean hasRecord() {
@@ -8018,16 +8018,16 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * Ƿǣ
-	 * @param isPure trueǷǴ
-	 * @return boolean trueǣfalse
+	 * 返回是否是（纯）排列
+	 * @param isPure true：检查是否是纯排列
+	 * @return boolean true：是，false：不是
 	 */
 	public boolean isPmt(boolean isPure) {
 		return false;
 	}
 	
 	/**
-	 * ķת
+	 * 返回数组的反转数组
 	 * @return IArray
 	 */
 	public IArray rvs() {
@@ -8057,10 +8057,10 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ԪشСȡǰcountλ
-	 * @param count countС0ȡ|count|λ
-	 * @param isAll countΪ1ʱisAllȡֵΪtrueȡһԪصλãֻȡһ
-	 * @param isLast ǷӺʼ
+	 * 对数组元素从小到大做排名，取前count名的位置
+	 * @param count 如果count小于0则取后|count|名的位置
+	 * @param isAll count为正负1时，如果isAll取值为true则取所有排名第一的元素的位置，否则只取一个
+	 * @param isLast 是否从后开始找
 	 * @param ignoreNull
 	 * @return IntArray
 	 */
@@ -8074,7 +8074,7 @@ public class IntArray implements NumberArray {
 		boolean []signs = this.signs;
 		if (ignoreNull) {
 			if (count == 1) {
-				// ȡСֵλ
+				// 取最小值的位置
 				int minValue = 0;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -8151,7 +8151,7 @@ public class IntArray implements NumberArray {
 					return result;
 				}
 			} else if (count > 1) {
-				// ȡСcountԪصλ
+				// 取最小的count个元素的位置
 				int next = count + 1;
 				IntArray valueArray = new IntArray(next);
 				IntArray posArray = new IntArray(next);
@@ -8175,7 +8175,7 @@ public class IntArray implements NumberArray {
 				
 				return posArray;
 			} else if (count == -1) {
-				// ȡֵλ
+				// 取最大值的位置
 				int maxValue = 0;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -8252,7 +8252,7 @@ public class IntArray implements NumberArray {
 					return result;
 				}
 			} else if (count < -1) {
-				// ȡcountԪصλ
+				// 取最大的count个元素的位置
 				count = -count;
 				int next = count + 1;
 				IntArray valueArray = new IntArray(next);
@@ -8281,7 +8281,7 @@ public class IntArray implements NumberArray {
 			}
 		} else {
 			if (count == 1) {
-				// ȡСֵλ
+				// 取最小值的位置
 				if (isAll) {
 					IntArray result = new IntArray(8);
 					if (signs != null) {
@@ -8361,7 +8361,7 @@ public class IntArray implements NumberArray {
 					return result;
 				}
 			} else if (count > 1) {
-				// ȡСcountԪصλ
+				// 取最小的count个元素的位置
 				int next = count + 1;
 				IntArray valueArray = new IntArray(next);
 				IntArray posArray = new IntArray(next);
@@ -8393,7 +8393,7 @@ public class IntArray implements NumberArray {
 				
 				return posArray;
 			} else if (count == -1) {
-				// ȡֵλ
+				// 取最大值的位置
 				int maxValue = 0;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -8470,7 +8470,7 @@ public class IntArray implements NumberArray {
 					return result;
 				}
 			} else if (count < -1) {
-				// ȡcountԪصλ
+				// 取最大的count个元素的位置
 				count = -count;
 				int next = count + 1;
 				IntArray valueArray = new IntArray(next);
@@ -8505,7 +8505,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ѵǰתɶ飬ǰǶ򷵻鱾
+	 * 把当前数组转成对象数组，如果当前数组是对象数组则返回数组本身
 	 * @return ObjectArray
 	 */
 	public ObjectArray toObjectArray() {
@@ -8530,7 +8530,7 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * Ѷתɴ飬ת׳쳣
+	 * 把对象数组转成纯类型数组，不能转则抛出异常
 	 * @return IArray
 	 */
 	public IArray toPureArray() {
@@ -8538,17 +8538,17 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ޸ָԪصֵ
-	 * @param index 1ʼ
-	 * @param value ֵ
+	 * 修改数组指定元素的值
+	 * @param index 索引，从1开始计数
+	 * @param value 值
 	 */
 	public void setInt(int index, int value) {
 		datas[index] = value;
 	}
 	
 	/**
-	 * л
-	 * @param refOrigin ԴУ
+	 * 保留数组数据用于生成序列或序表
+	 * @param refOrigin 引用源列，不复制数据
 	 * @return
 	 */
 	public IArray reserve(boolean refOrigin) {
@@ -8563,9 +8563,9 @@ public class IntArray implements NumberArray {
 	}
 	
 	/**
-	 * ѡԱ飬ӵǰѡ־Ϊtrueģotherѡ־Ϊfalse
-	 * @param signArray ־
-	 * @param other һ
+	 * 根据条件从两个数组选出成员组成新数组，从当前数组选出标志为true的，从other数组选出标志为false的
+	 * @param signArray 标志数组
+	 * @param other 另一个数组
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, IArray other) {
@@ -8719,9 +8719,9 @@ public class IntArray implements NumberArray {
 	}
 
 	/**
-	 * ӵǰѡ־Ϊtrueģ־Ϊfalseóvalue
-	 * @param signArray ־
-	 * @param other ֵ
+	 * 根据条件从当前数组选出标志为true的，标志为false的置成value
+	 * @param signArray 标志数组
+	 * @param other 值
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, Object value) {
@@ -19,16 +19,16 @@ import com.scudata.thread.MultithreadUtil;
 import com.scudata.util.Variant;
 
 /**
- * 飬1ʼ
+ * 长整数组，从1开始计数
  * @author LW
  *
  */
 public class LongArray implements NumberArray {
 	private static final long serialVersionUID = 1L;
-	private static final byte NULL_SIGN = 60; // лʱʾsignsǷΪ
+	private static final byte NULL_SIGN = 60; // 用于序列化时表示signs是否为空
 
-	private long []datas; // 0ԪرʾǷʱ
-	private boolean []signs; // ʾӦλõԪǷnullnullԱʱŲ
+	private long []datas; // 第0个元素表示是否是临时数组
+	private boolean []signs; // 表示相应位置的元素是否是null，有null成员时才产生
 	private int size;
 	
 	public LongArray() {
@@ -50,10 +50,10 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ȽָָĴСnullС
-	 * @param n1 ֵ
-	 * @param o2 ֵ
-	 * @return 1ֵ0ͬ-1ֵ
+	 * 比较指定数和指定对象的大小，null最小
+	 * @param n1 左值
+	 * @param o2 右值
+	 * @return 1：左值大，0：同样大，-1：右值大
 	 */
 	private static int compare(long n1, Object o2) {
 		if (o2 instanceof Integer || o2 instanceof Long) {
@@ -87,8 +87,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡʹڴϢʾ
-	 * @return ʹ
+	 * 取数组的类型串，用于错误信息提示
+	 * @return 类型串
 	 */
 	public String getDataType() {
 		MessageManager mm = EngineMessage.get();
@@ -96,7 +96,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * 
+	 * 复制数组
 	 * @return
 	 */
 	public IArray dup() {
@@ -114,8 +114,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * дݵ
-	 * @param out 
+	 * 写内容到流
+	 * @param out 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -142,8 +142,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ж
-	 * @param in 
+	 * 从流中读内容
+	 * @param in 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -211,7 +211,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * һͬ͵
+	 * 返回一个同类型的数组
 	 * @param count
 	 * @return
 	 */
@@ -220,8 +220,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷ԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素，如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void add(Object o) {
 		if (o instanceof Long || o instanceof Integer) {
@@ -242,8 +242,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(IArray array) {
 		int size2 = array.size();
@@ -295,9 +295,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
-	 * @param count Ԫظ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
+	 * @param count 元素个数
 	 */
 	public void addAll(IArray array, int count) {
 		if (count == 0) {
@@ -348,8 +348,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(Object []array) {
 		for (Object obj : array) {
@@ -379,9 +379,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ԪأͲ׳쳣
-	 * @param index λã1ʼ
-	 * @param o Ԫֵ
+	 * 插入元素，如果类型不兼容则抛出异常
+	 * @param index 插入位置，从1开始计数
+	 * @param o 元素值
 	 */
 	public void insert(int index, Object o) {
 		if (o instanceof Long) {
@@ -416,9 +416,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, IArray array) {
 		if (array instanceof LongArray) {
@@ -456,9 +456,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, Object []array) {
 		boolean containNull = false;
@@ -508,8 +508,8 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ׷ԪأΪ㹻ռԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素），如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void push(Object o) {
 		if (o instanceof Long) {
@@ -528,9 +528,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void push(IArray array, int index) {
 		if (array instanceof LongArray) {
@@ -549,9 +549,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void add(IArray array, int index) {
 		if (array.isNull(index)) {
@@ -572,10 +572,10 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * arrayеĵindexԪǰָԪأͲ׳쳣
-	 * @param curIndex ǰԪ1ʼ
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素设给到当前数组的指定元素，如果类型不兼容则抛出异常
+	 * @param curIndex 当前数组的元素索引，从1开始计数
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void set(int curIndex, IArray array, int index) {
 		if (array.isNull(index)) {
@@ -592,8 +592,8 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ׷Ԫ
-	 * @param n ֵ
+	 * 追加元素
+	 * @param n 值
 	 */
 	public void addLong(long n) {
 		ensureCapacity(size + 1);
@@ -601,7 +601,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ָλԪؼ1
+	 * 把指定位置元素加1
 	 * @param index
 	 */
 	public void plus1(int index) {
@@ -609,7 +609,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷ӿԪ
+	 * 追加空元素
 	 */
 	public void pushNull() {
 		if (signs == null) {
@@ -620,24 +620,24 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ׷ԪأΪ㹻ռԪأ
-	 * @param n ֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素）
+	 * @param n 值
 	 */
 	public void push(long n) {
 		datas[++size] = n;
 	}
 	
 	/**
-	 * ׷ԪأΪ㹻ռԪأ
-	 * @param n ֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素）
+	 * @param n 值
 	 */
 	public void pushLong(long n) {
 		datas[++size] = n;
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param index 1ʼ
+	 * 取指定位置元素
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public Object get(int index) {
@@ -649,35 +649,35 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ȡָλԪصֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的整数值
+	 * @param index 索引，从1开始计数
+	 * @return 整数值
 	 */
 	public int getInt(int index) {
 		return (int)datas[index];
 	}
 
 	/**
-	 * ȡָλԪصĳֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的长整数值
+	 * @param index 索引，从1开始计数
+	 * @return 长整数值
 	 */
 	public long getLong(int index) {
 		return datas[index];
 	}
 
 	/**
-	 * ȡָλԪصĸֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的浮点数值
+	 * @param index 索引，从1开始计数
+	 * @return 浮点数值
 	 */
 	public double getDouble(int index) {
 		return datas[index];
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray) {
@@ -704,11 +704,11 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
-	 * @param start ʼλã
-	 * @param end λã
-	 * @param doCheck trueλÿܰ00λnull䣬false0
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，包含
+	 * @param doCheck true：位置可能包含0，0的位置用null填充，false：不会包含0
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray, int start, int end, boolean doCheck) {
@@ -764,8 +764,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param NumberArray λ
+	 * 取指定位置元素组成新数组
+	 * @param NumberArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(NumberArray indexArray) {
@@ -793,9 +793,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡĳһ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 取某一区段组成新数组
+	 * @param start 起始位置（包括）
+	 * @param end 结束位置（不包括）
 	 * @return IArray
 	 */
 	public IArray get(int start, int end) {
@@ -813,8 +813,8 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ʹбСminCapacity
-	 * @param minCapacity С
+	 * 使列表的容量不小于minCapacity
+	 * @param minCapacity 最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 		if (datas.length <= minCapacity) {
@@ -836,7 +836,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ʹԪ
+	 * 调整容量，使其与元素数相等
 	 */
 	public void trimToSize() {
 		int newLen = size + 1;
@@ -854,8 +854,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * жָλõԪǷǿ
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是空
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isNull(int index) {
@@ -863,7 +863,7 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * жԪǷTrue
+	 * 判断元素是否是True
 	 * @return BoolArray
 	 */
 	public BoolArray isTrue() {
@@ -887,7 +887,7 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * жԪǷǼ
+	 * 判断元素是否是假
 	 * @return BoolArray
 	 */
 	public BoolArray isFalse() {
@@ -908,43 +908,43 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * жָλõԪǷTrue
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是True
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isTrue(int index) {
-		// ǿtrue
+		// 非空则是true
 		return signs == null || !signs[index];
 	}
 	
 	/**
-	 * жָλõԪǷFalse
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是False
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isFalse(int index) {
-		// false
+		// 空则是false
 		return signs != null && signs[index];
 	}
 
 	/**
-	 * ǷǼʱ飬ʱĿԱ޸ģ f1+f2+f3ֻһŽ
-	 * @return trueʱ飬falseʱ
+	 * 是否是计算过程中临时产生的数组，临时产生的可以被修改，比如 f1+f2+f3，只需产生一个数组存放结果
+	 * @return true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public boolean isTemporary() {
 		return datas[0] == 1;
 	}
 
 	/**
-	 * ǷǼʱ
-	 * @param ifTemporary trueʱ飬falseʱ
+	 * 设置是否是计算过程中临时产生的数组
+	 * @param ifTemporary true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public void setTemporary(boolean ifTemporary) {
 		datas[0] = ifTemporary ? 1 : 0;
 	}
 	
 	/**
-	 * ɾһԪ
+	 * 删除最后一个元素
 	 */
 	public void removeLast() {
 		if (signs != null) {
@@ -955,8 +955,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾָλõԪ
-	 * @param index 1ʼ
+	 * 删除指定位置的元素
+	 * @param index 索引，从1开始计数
 	 */
 	public void remove(int index) {
 		System.arraycopy(datas, index + 1, datas, index, size - index);
@@ -969,9 +969,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾָڵԪ
-	 * @param from ʼλã
-	 * @param to λã
+	 * 删除指定区间内的元素
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 */
 	public void removeRange(int fromIndex, int toIndex) {
 		System.arraycopy(datas, toIndex + 1, datas, fromIndex, size - toIndex);
@@ -986,8 +986,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾָλõԪأŴС
-	 * @param seqs 
+	 * 删除指定位置的元素，序号从小到大排序
+	 * @param seqs 索引数组
 	 */
 	public void remove(int []seqs) {
 		int delCount = 0;
@@ -1025,9 +1025,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ָڵ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 保留指定区间内的数据
+	 * @param start 起始位置（包含）
+	 * @param end 结束位置（包含）
 	 */
 	public void reserve(int start, int end) {
 		int newSize = end - start + 1;
@@ -1047,8 +1047,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ķǿԪĿ
-	 * @return ǿԪĿ
+	 * 返回数组的非空元素数目
+	 * @return 非空元素数目
 	 */
 	public int count() {
 		boolean []signs = this.signs;
@@ -1068,8 +1068,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * жǷȡֵΪtrueԪ
-	 * @return trueУfalseû
+	 * 判断数组是否有取值为true的元素
+	 * @return true：有，false：没有
 	 */
 	public boolean containTrue() {
 		int size = this.size;
@@ -1092,7 +1092,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * صһΪյԪ
+	 * 返回第一个不为空的元素
 	 * @return Object
 	 */
 	public Object ifn() {
@@ -1116,9 +1116,9 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ޸ָԪصֵͲ׳쳣
-	 * @param index 1ʼ
-	 * @param obj ֵ
+	 * 修改数组指定元素的值，如果类型不兼容则抛出异常
+	 * @param index 索引，从1开始计数
+	 * @param obj 值
 	 */
 	public void set(int index, Object obj) {
 		if (obj == null) {
@@ -1140,7 +1140,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ɾеԪ
+	 * 删除所有的元素
 	 */
 	public void clear() {
 		signs = null;
@@ -1148,9 +1148,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @return int Ԫص,ڷظĲλ.
+	 * @return int 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem) {
 		if (elem instanceof Number) {
@@ -1161,7 +1161,7 @@ public class LongArray implements NumberArray {
 			int low = 1, high = size;
 			
 			if (signs != null) {
-				// null
+				// 跳过null
 				while (low <= high) {
 					if (signs[low]) {
 						low++;
@@ -1187,7 +1187,7 @@ public class LongArray implements NumberArray {
 					int mid = (low + high) >> 1;
 					if (compare(datas[mid], elem) < 0) {
 						low = mid + 1;
-					} else { // 0ȵ
+					} else { // 大于0，不会有相等的情况
 						high = mid - 1;
 					}
 				}
@@ -1208,11 +1208,11 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @param start ʼλã
-	 * @param end λã
-	 * @return Ԫص,ڷظĲλ.
+	 * @param start 起始查找位置（包含）
+	 * @param end 结束查找位置（包含）
+	 * @return 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem, int start, int end) {
 		if (elem instanceof Number) {
@@ -1223,7 +1223,7 @@ public class LongArray implements NumberArray {
 			int low = start, high = end;
 			
 			if (signs != null) {
-				// null
+				// 跳过null
 				while (low <= high) {
 					if (signs[low]) {
 						low++;
@@ -1249,7 +1249,7 @@ public class LongArray implements NumberArray {
 					int mid = (low + high) >> 1;
 					if (compare(datas[mid], elem) < 0) {
 						low = mid + 1;
-					} else { // 0ȵ
+					} else { // 大于0，不会有相等的情况
 						high = mid - 1;
 					}
 				}
@@ -1275,7 +1275,7 @@ public class LongArray implements NumberArray {
 		int low = 1, high = size;
 		
 		if (signs != null) {
-			// null
+			// 跳过null
 			while (low <= high) {
 				if (signs[low]) {
 					low++;
@@ -1299,7 +1299,7 @@ public class LongArray implements NumberArray {
 		return -low; // key not found
 	}
 	
-	// 鰴򣬽нֲ
+	// 数组按降序排序，进行降序二分查找
 	private int descBinarySearch(long elem) {
 		long []datas = this.datas;
 		int low = 1, high = size;
@@ -1320,16 +1320,16 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * бǷָԪ
-	 * @param elem Object ҵԪ
-	 * @return boolean truefalse
+	 * 返回列表中是否包含指定元素
+	 * @param elem Object 待查找的元素
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object elem) {
 		if (elem instanceof Number) {
 			Number number = (Number)elem;
 			long v = number.longValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return false;
 			}
@@ -1395,10 +1395,10 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * жԪǷڵǰ
-	 * @param isSorted ǰǷ
-	 * @param array 
-	 * @param result ڴŽֻȡֵΪtrue
+	 * 判断数组的元素是否在当前数组中
+	 * @param isSorted 当前数组是否有序
+	 * @param array 数组
+	 * @param result 用于存放结果，只找取值为true的
 	 */
 	public void contains(boolean isSorted, IArray array, BoolArray result) {
 		int resultSize = result.size();
@@ -1446,26 +1446,26 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * бǷָԪأʹõȺűȽ
+	 * 返回列表中是否包含指定元素，使用等号比较
 	 * @param elem
-	 * @return boolean truefalse
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean objectContains(Object elem) {
 		return false;
 	}
 	
 	/**
-	 * Ԫ״γֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中首次出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int firstIndexOf(Object elem, int start) {
 		if (elem instanceof Number) {
 			Number number = (Number)elem;
 			long v = number.longValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return 0;
 			}
@@ -1508,17 +1508,17 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * Ԫֵλ
-	 * @param elem ҵԪ
-	 * @param start Ӻ濪ʼҵλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中最后出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 从后面开始查找的位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int lastIndexOf(Object elem, int start) {
 		if (elem instanceof Number) {
 			Number number = (Number)elem;
 			long v = number.longValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return 0;
 			}
@@ -1560,11 +1560,11 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * Ԫгֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @param isSorted ǰǷ
-	 * @param isFromHead trueͷʼfalseβǰʼ
+	 * 返回元素在数组中所有出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @param isSorted 当前数组是否有序
+	 * @param isFromHead true：从头开始遍历，false：从尾向前开始遍历
 	 * @return IntArray
 	 */
 	public IntArray indexOfAll(Object elem, int start, boolean isSorted, boolean isFromHead) {
@@ -1628,13 +1628,13 @@ public class LongArray implements NumberArray {
 			long []datas = this.datas;
 			long v = number.longValue();
 			
-			// ҵһ
+			// 找到第一个
 			int first = index;
 			while (first > start && (signs == null || !signs[first - 1]) && datas[first - 1] == v) {
 				first--;
 			}
 			
-			// ҵһ
+			// 找到最后一个
 			int last = index;
 			while (last < end && (signs == null || !signs[last + 1]) && datas[last + 1] == v) {
 				last++;
@@ -1656,7 +1656,7 @@ public class LongArray implements NumberArray {
 			long []datas = this.datas;
 			long v = number.longValue();
 			
-			// ȷҪҵֵǷ
+			// 确定要查找的值是否是整数
 			if (compare(v, number) != 0) {
 				return new IntArray(1);
 			}
@@ -1681,8 +1681,8 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * Աֵ
-	 * @return IArray ֵ
+	 * 对数组成员求绝对值
+	 * @return IArray 绝对值数组
 	 */
 	public IArray abs() {
 		int size = this.size;
@@ -1706,7 +1706,7 @@ public class LongArray implements NumberArray {
 			result.setTemporary(true);
 		}
 		
-		// ҪжϳԱǷnull
+		// 不需要判断成员是否是null
 		for (int i = 1; i <= size; ++i) {
 			if (datas[i] < 0L) {
 				datas[i] = -datas[i];
@@ -1717,14 +1717,14 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求负
+	 * @return IArray 负值数组
 	 */
 	public IArray negate() {
 		int size = this.size;
 		long []datas = this.datas;
 		
-		// ҪжϳԱǷnull
+		// 不需要判断成员是否是null
 		if (isTemporary()) {
 			for (int i = 1; i <= size; ++i) {
 				datas[i] = -datas[i];
@@ -1750,15 +1750,15 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求非
+	 * @return IArray 非值数组
 	 */
 	public IArray not() {
 		boolean []signs = this.signs;
 		int size = this.size;
 		
 		if (signs == null) {
-			// ûпԪʱȡǶfalse
+			// 没有空元素时取非都是false
 			return new ConstArray(Boolean.FALSE, size);
 		} else {
 			boolean []newDatas = new boolean[size + 1];
@@ -1771,17 +1771,17 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * жĳԱǷ԰null
-	 * @return truefalseзֵ
+	 * 判断数组的成员是否都是数（可以包含null）
+	 * @return true：都是数，false：含有非数的值
 	 */
 	public boolean isNumberArray() {
 		return true;
 	}
 	
 	/**
-	 * ӦĳԱĺ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的和
+	 * @param array 右侧数组
+	 * @return 和数组
 	 */
 	public IArray memberAdd(IArray array) {
 		if (array instanceof IntArray) {
@@ -1806,12 +1806,12 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ĳԱָĺ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的和
+	 * @param value 常数
+	 * @return 和数组
 	 */
 	public IArray memberAdd(Object value) {
-		// ַֺ԰Ѵת֣תnull
+		// 数字和字符串相加则尝试把串转成数字，转不成则当null处理
 		if (value instanceof String) {
 			value = Variant.parseNumber((String)value);
 		}
@@ -2064,9 +2064,9 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĲ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的差
+	 * @param array 右侧数组
+	 * @return 差数组
 	 */
 	public IArray memberSubtract(IArray array) {
 		if (array instanceof IntArray) {
@@ -2464,9 +2464,9 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĻ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的积
+	 * @param array 右侧数组
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(IArray array) {
 		if (array instanceof IntArray) {
@@ -2487,9 +2487,9 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ĳԱָĻ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的积
+	 * @param value 常数
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(Object value) {
 		int size = this.size;
@@ -2727,9 +2727,9 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĳ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的除
+	 * @param array 右侧数组
+	 * @return 商数组
 	 */
 	public IArray memberDivide(IArray array) {
 		if (array instanceof IntArray) {
@@ -3044,9 +3044,9 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ӦԱȡгԱ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的数成员取余或序列成员异或列
+	 * @param array 右侧数组
+	 * @return 余数数组或序列异或列数组
 	 */
 	public IArray memberMod(IArray array) {
 		if (array instanceof IntArray) {
@@ -3091,7 +3091,7 @@ public class LongArray implements NumberArray {
 				resultSigns = s1;
 				for (int i = 1; i <= size; ++i) {
 					if (s2[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3159,7 +3159,7 @@ public class LongArray implements NumberArray {
 				resultSigns = s1;
 				for (int i = 1; i <= size; ++i) {
 					if (s2[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3178,7 +3178,7 @@ public class LongArray implements NumberArray {
 				resultSigns = s2;
 				for (int i = 1; i <= size; ++i) {
 					if (s1[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3246,7 +3246,7 @@ public class LongArray implements NumberArray {
 				resultSigns = s2;
 				for (int i = 1; i <= size; ++i) {
 					if (s1[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3435,9 +3435,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ԱгԱ
-	 * @param array Ҳ
-	 * @return ֵв
+	 * 计算两个数组的数成员整除或序列成员差集
+	 * @param array 右侧数组
+	 * @return 整除值数组或序列差集数组
 	 */
 	public IArray memberIntDivide(IArray array) {
 		if (array instanceof IntArray) {
@@ -3482,7 +3482,7 @@ public class LongArray implements NumberArray {
 				resultSigns = s1;
 				for (int i = 1; i <= size; ++i) {
 					if (s2[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3550,7 +3550,7 @@ public class LongArray implements NumberArray {
 				resultSigns = s1;
 				for (int i = 1; i <= size; ++i) {
 					if (s2[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3569,7 +3569,7 @@ public class LongArray implements NumberArray {
 				resultSigns = s2;
 				for (int i = 1; i <= size; ++i) {
 					if (s1[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3637,7 +3637,7 @@ public class LongArray implements NumberArray {
 				resultSigns = s1;
 				for (int i = 1; i <= size; ++i) {
 					if (s2[i]) {
-						// ҲһΪֵΪ
+						// 左右操作数有一个为空则值为空
 						resultSigns[i] = true;
 					}
 				}
@@ -3801,9 +3801,9 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱбȽϣرȽϽ
-	 * @param rightArray Ҳ
-	 * @return IntArray 10ȣ-1Ҳ
+	 * 两个数组的相对应的成员进行比较，返回比较结果数组
+	 * @param rightArray 右侧数组
+	 * @return IntArray 1：左侧大，0：相等，-1：右侧大
 	 */
 	public IntArray memberCompare(NumberArray rightArray) {
 		int size = this.size;
@@ -3873,10 +3873,10 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(IArray array, int relation) {
 		if (array instanceof IntArray) {
@@ -3901,10 +3901,10 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(Object value, int relation) {
 		if (value instanceof Double || value instanceof Float) {
@@ -3972,7 +3972,7 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4007,7 +4007,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4042,7 +4042,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4077,7 +4077,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4112,7 +4112,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4147,7 +4147,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4227,7 +4227,7 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4262,7 +4262,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4297,7 +4297,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4332,7 +4332,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4367,7 +4367,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4402,7 +4402,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				if (s2 == null) {
 					for (int i = 1; i <= size; ++i) {
@@ -4480,7 +4480,7 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] == value;
@@ -4495,7 +4495,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] > value;
@@ -4510,7 +4510,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] >= value;
@@ -4525,7 +4525,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] < value;
@@ -4540,7 +4540,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] <= value;
@@ -4555,7 +4555,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = d1[i] != value;
@@ -4597,7 +4597,7 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) == 0;
@@ -4612,7 +4612,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) > 0;
@@ -4627,7 +4627,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) >= 0;
@@ -4642,7 +4642,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) < 0;
@@ -4657,7 +4657,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) <= 0;
@@ -4672,7 +4672,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = Double.compare(d1[i], value) != 0;
@@ -4714,7 +4714,7 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) == 0;
@@ -4729,7 +4729,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) > 0;
@@ -4744,7 +4744,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) >= 0;
@@ -4759,7 +4759,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) < 0;
@@ -4774,7 +4774,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) <= 0;
@@ -4789,7 +4789,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = new BigDecimal(d1[i]).compareTo(value) != 0;
@@ -4914,7 +4914,7 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) == 0;
@@ -4929,7 +4929,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) > 0;
@@ -4944,7 +4944,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) >= 0;
@@ -4959,7 +4959,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) < 0;
@@ -4974,7 +4974,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) <= 0;
@@ -4989,7 +4989,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			if (s1 == null) {
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = compare(d1[i], d2[i]) != 0;
@@ -5031,9 +5031,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ȽĴС
-	 * @param array Ҳ
-	 * @return 1ǰ0ȣ-1ǰС
+	 * 比较两个数组的大小
+	 * @param array 右侧数组
+	 * @return 1：当前数组大，0：两个数组相等，-1：当前数组小
 	 */
 	public int compareTo(IArray array) {
 		int size1 = this.size;
@@ -5199,9 +5199,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * 2ԱıȽֵ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 计算数组的2个成员的比较值
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public int memberCompare(int index1, int index2) {
@@ -5217,9 +5217,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * жԱǷ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 判断数组的两个成员是否相等
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public boolean isMemberEquals(int index1, int index2) {
@@ -5235,11 +5235,11 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * жָԪǷͬ
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return trueͬfalseͬ
+	 * 判断两个数组的指定元素是否相同
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return true：相同，false：不相同
 	 */
 	public boolean isEquals(int curIndex, IArray array, int index) {
 		if (isNull(curIndex)) {
@@ -5258,10 +5258,10 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * жָԪǷֵ
-	 * @param curIndex Ԫ1ʼ
-	 * @param value ֵ
-	 * @return trueȣfalse
+	 * 判断数组的指定元素是否与给定值相等
+	 * @param curIndex 数组元素索引，从1开始计数
+	 * @param value 值
+	 * @return true：相等，false：不相等
 	 */
 	public boolean isEquals(int curIndex, Object value) {
 		if (signs == null || !signs[curIndex]) {
@@ -5282,11 +5282,11 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * жָԪصĴС
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return СڣС0ڣ0ڣ0
+	 * 判断两个数组的指定元素的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return 小于：小于0，等于：0，大于：大于0
 	 */
 	public int compareTo(int curIndex, IArray array, int index) {
 		if (isNull(curIndex)) {
@@ -5303,9 +5303,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ȽָԪֵĴС
-	 * @param curIndex ǰԪص
-	 * @param value ҪȽϵֵ
+	 * 比较数组的指定元素与给定值的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param value 要比较的值
 	 * @return
 	 */
 	public int compareTo(int curIndex, Object value) {
@@ -5319,10 +5319,10 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * arrayָԪؼӵǰָԪ
-	 * @param curIndex ǰԪص
-	 * @param array Ҫӵ
-	 * @param index ҪӵԪص
+	 * 把array的指定元素加到当前数组的指定元素上
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要相加的数组
+	 * @param index 要相加的数组的元素的索引
 	 * @return IArray
 	 */
 	public IArray memberAdd(int curIndex, IArray array, int index) {
@@ -5398,9 +5398,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡָԱĹϣֵ
-	 * @param index Ա1ʼ
-	 * @return ָԱĹϣֵ
+	 * 取指定成员的哈希值
+	 * @param index 成员索引，从1开始计数
+	 * @return 指定成员的哈希值
 	 */
 	public int hashCode(int index) {
 		if (signs == null || !signs[index]) {
@@ -5411,7 +5411,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * Ա
+	 * 求成员和
 	 * @return
 	 */
 	public Object sum() {
@@ -5440,7 +5440,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ƽֵ
+	 * 求平均值
 	 * @return
 	 */
 	public Object average() {
@@ -5472,7 +5472,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * õĳԱ
+	 * 得到最大的成员
 	 * @return
 	 */
 	public Object max() {
@@ -5518,7 +5518,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * õСĳԱ
+	 * 得到最小的成员
 	 * @return
 	 */
 	public Object min() {
@@ -5564,11 +5564,11 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(IArray array, int relation, BoolArray result, boolean isAnd) {
 		if (array instanceof IntArray) {
@@ -5589,11 +5589,11 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(Object value, int relation, BoolArray result, boolean isAnd) {
 		if (value instanceof Double || value instanceof Float) {
@@ -5623,9 +5623,9 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5654,7 +5654,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5683,7 +5683,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5712,7 +5712,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5741,7 +5741,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5770,7 +5770,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5802,9 +5802,9 @@ public class LongArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5833,7 +5833,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5862,7 +5862,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5891,7 +5891,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5920,7 +5920,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5949,7 +5949,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -5992,9 +5992,9 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6023,7 +6023,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6052,7 +6052,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6081,7 +6081,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6110,7 +6110,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6139,7 +6139,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6171,9 +6171,9 @@ public class LongArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6202,7 +6202,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6231,7 +6231,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6260,7 +6260,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6289,7 +6289,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6318,7 +6318,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					if (s2 == null) {
 						for (int i = 1; i <= size; ++i) {
@@ -6359,9 +6359,9 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] != value) {
@@ -6376,7 +6376,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] <= value) {
@@ -6391,7 +6391,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] < value) {
@@ -6406,7 +6406,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] >= value) {
@@ -6421,7 +6421,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] > value) {
@@ -6436,7 +6436,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && d1[i] == value) {
@@ -6454,9 +6454,9 @@ public class LongArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] == value) {
@@ -6471,7 +6471,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] > value) {
@@ -6486,7 +6486,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] >= value) {
@@ -6501,7 +6501,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] < value) {
@@ -6516,7 +6516,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] <= value) {
@@ -6531,7 +6531,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && d1[i] != value) {
@@ -6558,9 +6558,9 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) != 0) {
@@ -6575,7 +6575,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) <= 0) {
@@ -6590,7 +6590,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) < 0) {
@@ -6605,7 +6605,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) >= 0) {
@@ -6620,7 +6620,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) > 0) {
@@ -6635,7 +6635,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && Double.compare(d1[i], value) == 0) {
@@ -6653,9 +6653,9 @@ public class LongArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) == 0) {
@@ -6670,7 +6670,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) > 0) {
@@ -6685,7 +6685,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) >= 0) {
@@ -6700,7 +6700,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) < 0) {
@@ -6715,7 +6715,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) <= 0) {
@@ -6730,7 +6730,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && Double.compare(d1[i], value) != 0) {
@@ -6757,9 +6757,9 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) != 0) {
@@ -6774,7 +6774,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) <= 0) {
@@ -6789,7 +6789,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) < 0) {
@@ -6804,7 +6804,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) >= 0) {
@@ -6819,7 +6819,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) > 0) {
@@ -6834,7 +6834,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) == 0) {
@@ -6852,9 +6852,9 @@ public class LongArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) == 0) {
@@ -6869,7 +6869,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) > 0) {
@@ -6884,7 +6884,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) >= 0) {
@@ -6899,7 +6899,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) < 0) {
@@ -6914,7 +6914,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) <= 0) {
@@ -6929,7 +6929,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && new BigDecimal(d1[i]).compareTo(value) != 0) {
@@ -6957,9 +6957,9 @@ public class LongArray implements NumberArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) != 0) {
@@ -6974,7 +6974,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) <= 0) {
@@ -6989,7 +6989,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) < 0) {
@@ -7004,7 +7004,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) >= 0) {
@@ -7019,7 +7019,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) > 0) {
@@ -7034,7 +7034,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && compare(d1[i], d2[i]) == 0) {
@@ -7052,9 +7052,9 @@ public class LongArray implements NumberArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) == 0) {
@@ -7070,7 +7070,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) > 0) {
@@ -7085,7 +7085,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) >= 0) {
@@ -7100,7 +7100,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) < 0) {
@@ -7115,7 +7115,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) <= 0) {
@@ -7130,7 +7130,7 @@ public class LongArray implements NumberArray {
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				if (s1 == null) {
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && compare(d1[i], d2[i]) != 0) {
@@ -7151,9 +7151,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ӦĳԱİλ
-	 * @param array Ҳ
-	 * @return λ
+	 * 计算两个数组的相对应的成员的按位与
+	 * @param array 右侧数组
+	 * @return 按位与结果数组
 	 */
 	public IArray bitwiseAnd(IArray array) {
 		int size = this.size;
@@ -7218,8 +7218,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ȡʶȡֵΪжӦݣ
-	 * @param signArray ʶ
+	 * 取出标识数组取值为真的行对应的数据，组成新数组
+	 * @param signArray 标识数组
 	 * @return IArray
 	 */
 	public IArray select(IArray signArray) {
@@ -7275,8 +7275,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ѳԱתɶ鷵
-	 * @return 
+	 * 把成员转成对象数组返回
+	 * @return 对象数组
 	 */
 	public Object[] toArray() {
 		int size = this.size;
@@ -7300,8 +7300,8 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ѳԱָ
-	 * @param result ڴųԱ
+	 * 把成员填到指定的数组
+	 * @param result 用于存放成员的数组
 	 */
 	public void toArray(Object []result) {
 		int size = this.size;
@@ -7322,9 +7322,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ָλò
-	 * @param pos λã
-	 * @return غ벿Ԫعɵ
+	 * 把数组从指定位置拆成两个数组
+	 * @param pos 位置，包含
+	 * @return 返回后半部分元素构成的数组
 	 */
 	public IArray split(int pos) {
 		int size = this.size;
@@ -7349,9 +7349,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ָԪط
-	 * @param from ʼλã
-	 * @param to λã
+	 * 把指定区间元素分离出来组成新数组
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 * @return
 	 */
 	public IArray split(int from, int to) {
@@ -7377,7 +7377,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * Ԫؽ
+	 * 对数组的元素进行排序
 	 */
 	public void sort() {
 		int size = this.size;
@@ -7399,7 +7399,7 @@ public class LongArray implements NumberArray {
 			MultithreadUtil.sort(datas, 1, size + 1);
 			this.signs = null;
 		} else if (nullCount != size) {
-			// ѿԪƵǰ
+			// 把空元素移到数组前面
 			long []datas = this.datas;
 			for (int i = size, q = size; i > 0; --i) {
 				if (signs[i]) {
@@ -7409,7 +7409,7 @@ public class LongArray implements NumberArray {
 				}
 			}
 			
-			// ԷǿԪؽ
+			// 对非空元素进行排序
 			MultithreadUtil.sort(datas, nullCount + 1, size + 1);
 			for (int i = 1; i <= nullCount; ++i) {
 				signs[i] = true;
@@ -7418,8 +7418,8 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * Ԫؽ
-	 * @param comparator Ƚ
+	 * 对数组的元素进行排序
+	 * @param comparator 比较器
 	 */
 	public void sort(Comparator<Object> comparator) {
 		int size = this.size;
@@ -7458,7 +7458,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * Ƿм¼
+	 * 返回数组中是否含有记录
 	 * @return boolean
 	 */
 	public boolean hasRecord() {
@@ -7466,16 +7466,16 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * Ƿǣ
-	 * @param isPure trueǷǴ
-	 * @return boolean trueǣfalse
+	 * 返回是否是（纯）排列
+	 * @param isPure true：检查是否是纯排列
+	 * @return boolean true：是，false：不是
 	 */
 	public boolean isPmt(boolean isPure) {
 		return false;
 	}
 	
 	/**
-	 * ķת
+	 * 返回数组的反转数组
 	 * @return IArray
 	 */
 	public IArray rvs() {
@@ -7505,10 +7505,10 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ԪشСȡǰcountλ
-	 * @param count countС0ȡ|count|λ
-	 * @param isAll countΪ1ʱisAllȡֵΪtrueȡһԪصλãֻȡһ
-	 * @param isLast ǷӺʼ
+	 * 对数组元素从小到大做排名，取前count名的位置
+	 * @param count 如果count小于0则取后|count|名的位置
+	 * @param isAll count为正负1时，如果isAll取值为true则取所有排名第一的元素的位置，否则只取一个
+	 * @param isLast 是否从后开始找
 	 * @param ignoreNull
 	 * @return IntArray
 	 */
@@ -7523,7 +7523,7 @@ public class LongArray implements NumberArray {
 		
 		if (ignoreNull) {
 			if (count == 1) {
-				// ȡСֵλ
+				// 取最小值的位置
 				long minValue = 0;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -7600,7 +7600,7 @@ public class LongArray implements NumberArray {
 					return result;
 				}
 			} else if (count > 1) {
-				// ȡСcountԪصλ
+				// 取最小的count个元素的位置
 				int next = count + 1;
 				LongArray valueArray = new LongArray(next);
 				IntArray posArray = new IntArray(next);
@@ -7624,7 +7624,7 @@ public class LongArray implements NumberArray {
 				
 				return posArray;
 			} else if (count == -1) {
-				// ȡֵλ
+				// 取最大值的位置
 				long maxValue = 0;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -7701,7 +7701,7 @@ public class LongArray implements NumberArray {
 					return result;
 				}
 			} else if (count < -1) {
-				// ȡcountԪصλ
+				// 取最大的count个元素的位置
 				count = -count;
 				int next = count + 1;
 				LongArray valueArray = new LongArray(next);
@@ -7730,7 +7730,7 @@ public class LongArray implements NumberArray {
 			}
 		} else {
 			if (count == 1) {
-				// ȡСֵλ
+				// 取最小值的位置
 				if (isAll) {
 					IntArray result = new IntArray(8);
 					if (signs != null) {
@@ -7810,7 +7810,7 @@ public class LongArray implements NumberArray {
 					return result;
 				}
 			} else if (count > 1) {
-				// ȡСcountԪصλ
+				// 取最小的count个元素的位置
 				int next = count + 1;
 				LongArray valueArray = new LongArray(next);
 				IntArray posArray = new IntArray(next);
@@ -7842,7 +7842,7 @@ public class LongArray implements NumberArray {
 				
 				return posArray;
 			} else if (count == -1) {
-				// ȡֵλ
+				// 取最大值的位置
 				long maxValue = 0;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -7919,7 +7919,7 @@ public class LongArray implements NumberArray {
 					return result;
 				}
 			} else if (count < -1) {
-				// ȡcountԪصλ
+				// 取最大的count个元素的位置
 				count = -count;
 				int next = count + 1;
 				LongArray valueArray = new LongArray(next);
@@ -7954,7 +7954,7 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ѵǰתɶ飬ǰǶ򷵻鱾
+	 * 把当前数组转成对象数组，如果当前数组是对象数组则返回数组本身
 	 * @return ObjectArray
 	 */
 	public ObjectArray toObjectArray() {
@@ -7979,7 +7979,7 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * Ѷתɴ飬ת׳쳣
+	 * 把对象数组转成纯类型数组，不能转则抛出异常
 	 * @return IArray
 	 */
 	public IArray toPureArray() {
@@ -7987,17 +7987,17 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ޸ָԪصֵ
-	 * @param index 1ʼ
-	 * @param value ֵ
+	 * 修改数组指定元素的值
+	 * @param index 索引，从1开始计数
+	 * @param value 值
 	 */
 	public void setLong(int index, long value) {
 		datas[index] = value;
 	}
 	
 	/**
-	 * л
-	 * @param refOrigin ԴУ
+	 * 保留数组数据用于生成序列或序表
+	 * @param refOrigin 引用源列，不复制数据
 	 * @return
 	 */
 	public IArray reserve(boolean refOrigin) {
@@ -8012,9 +8012,9 @@ public class LongArray implements NumberArray {
 	}
 	
 	/**
-	 * ѡԱ飬ӵǰѡ־Ϊtrueģotherѡ־Ϊfalse
-	 * @param signArray ־
-	 * @param other һ
+	 * 根据条件从两个数组选出成员组成新数组，从当前数组选出标志为true的，从other数组选出标志为false的
+	 * @param signArray 标志数组
+	 * @param other 另一个数组
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, IArray other) {
@@ -8137,9 +8137,9 @@ public class LongArray implements NumberArray {
 	}
 
 	/**
-	 * ӵǰѡ־Ϊtrueģ־Ϊfalseóvalue
-	 * @param signArray ־
-	 * @param other ֵ
+	 * 根据条件从当前数组选出标志为true的，标志为false的置成value
+	 * @param signArray 标志数组
+	 * @param other 值
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, Object value) {
@@ -24,7 +24,7 @@ import com.scudata.util.CursorUtil;
 import com.scudata.util.Variant;
 
 /**
- * 飬1ʼ
+ * 对象数组，从1开始计数
  * @author WangXiaoJun
  *
  */
@@ -49,9 +49,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ֱô鴴ObjectArray
-	 * @param datas 飬0λÿյ
-	 * @param size Ԫ
+	 * 直接引用传入的数组创建ObjectArray
+	 * @param datas 数组，第0个位置空的
+	 * @param size 元素数
 	 */
 	public ObjectArray(Object []datas, int size) {
 		this.datas = datas;
@@ -63,8 +63,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ȡʹڴϢʾ
-	 * @return ʹ
+	 * 取数组的类型串，用于错误信息提示
+	 * @return 类型串
 	 */
 	public String getDataType() {
 		Object []datas = this.datas;
@@ -79,7 +79,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * 
+	 * 复制数组
 	 * @return
 	 */
 	public IArray dup() {
@@ -90,8 +90,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * дݵ
-	 * @param out 
+	 * 写内容到流
+	 * @param out 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -106,8 +106,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ж
-	 * @param in 
+	 * 从流中读内容
+	 * @param in 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -128,7 +128,7 @@ public class ObjectArray implements IArray {
 		Object []datas = this.datas;
 		
 		out.writeInt(size);
-		out.writeInt(datas.length); // Ϊ˼֮ǰListBase1
+		out.writeInt(datas.length); // 为了兼容之前的ListBase1
 		
 		for (int i = 1; i <= size; ++i) {
 			out.writeObject(datas[i], true);
@@ -140,7 +140,7 @@ public class ObjectArray implements IArray {
 	public void fillRecord(byte[] buf) throws IOException, ClassNotFoundException {
 		ByteArrayInputRecord in = new ByteArrayInputRecord(buf);
 		int size = this.size = in.readInt();
-		in.readInt(); // Ϊ˼֮ǰListBase1
+		in.readInt(); // 为了兼容之前的ListBase1
 		
 		Object []datas = this.datas = new Object[size + 1];
 		for (int i = 1; i <= size; ++i) {
@@ -149,7 +149,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * һͬ͵
+	 * 返回一个同类型的数组
 	 * @param count
 	 * @return
 	 */
@@ -158,8 +158,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ׷ԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素，如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void add(Object o) {
 		ensureCapacity(size + 1);
@@ -167,8 +167,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(IArray array) {
 		int size2 = array.size();
@@ -190,9 +190,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
-	 * @param count Ԫظ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
+	 * @param count 元素个数
 	 */
 	public void addAll(IArray array, int count) {
 		if (array instanceof ObjectArray) {
@@ -212,8 +212,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(Object []array) {
 		int size2 = array.length;
@@ -223,9 +223,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ԪأͲ׳쳣
-	 * @param index λã1ʼ
-	 * @param o Ԫֵ
+	 * 插入元素，如果类型不兼容则抛出异常
+	 * @param index 插入位置，从1开始计数
+	 * @param o 元素值
 	 */
 	public void insert(int index, Object o) {
 		ensureCapacity(size + 1);
@@ -237,9 +237,9 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, IArray array) {
 		int numNew = array.size();
@@ -256,9 +256,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, Object []array) {
 		int numNew = array.length;
@@ -270,33 +270,33 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ׷ԪأΪ㹻ռԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素），如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void push(Object o) {
 		datas[++size] = o;
 	}
 	
 	/**
-	 * ׷һճԱΪ㹻ռԪأ
+	 * 追加一个空成员（不检查容量，认为有足够空间存放元素）
 	 */
 	public void pushNull() {
 		datas[++size] = null;
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void push(IArray array, int index) {
 		datas[++size] = array.get(index);
 	}
 	
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void add(IArray array, int index) {
 		ensureCapacity(size + 1);
@@ -304,18 +304,18 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * arrayеĵindexԪǰָԪأͲ׳쳣
-	 * @param curIndex ǰԪ1ʼ
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素设给到当前数组的指定元素，如果类型不兼容则抛出异常
+	 * @param curIndex 当前数组的元素索引，从1开始计数
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void set(int curIndex, IArray array, int index) {
 		datas[curIndex] = array.get(index);
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param index 1ʼ
+	 * 取指定位置元素
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public Object get(int index) {
@@ -323,26 +323,26 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ȡָλԪصֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的整数值
+	 * @param index 索引，从1开始计数
+	 * @return 整数值
 	 */
 	public int getInt(int index) {
 		return ((Number)datas[index]).intValue();
 	}
 	
 	/**
-	 * ȡָλԪصĳֵ
-	 * @param index 1ʼ
-	 * @return ֵ
+	 * 取指定位置元素的长整数值
+	 * @param index 索引，从1开始计数
+	 * @return 长整数值
 	 */
 	public long getLong(int index) {
 		return ((Number)datas[index]).longValue();
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray) {
@@ -358,11 +358,11 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
-	 * @param start ʼλã
-	 * @param end λã
-	 * @param doCheck trueλÿܰ00λnull䣬false0
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，包含
+	 * @param doCheck true：位置可能包含0，0的位置用null填充，false：不会包含0
 	 * @return IArray
 	 */
 	public IArray get(int []indexArray, int start, int end, boolean doCheck) {
@@ -387,8 +387,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ȡָλԪ
-	 * @param NumberArray λ
+	 * 取指定位置元素组成新数组
+	 * @param NumberArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(NumberArray indexArray) {
@@ -404,9 +404,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ȡĳһ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 取某一区段组成新数组
+	 * @param start 起始位置（包括）
+	 * @param end 结束位置（不包括）
 	 * @return IArray
 	 */
 	public IArray get(int start, int end) {
@@ -417,8 +417,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ʹбСminCapacity
-	 * @param minCapacity С
+	 * 使列表的容量不小于minCapacity
+	 * @param minCapacity 最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 		if (datas.length <= minCapacity) {
@@ -434,7 +434,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ʹԪ
+	 * 调整容量，使其与元素数相等
 	 */
 	public void trimToSize() {
 		int newLen = size + 1;
@@ -446,8 +446,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * жָλõԪǷǿ
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是空
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isNull(int index) {
@@ -455,7 +455,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷTrue
+	 * 判断元素是否是True
 	 * @return BoolArray
 	 */
 	public BoolArray isTrue() {
@@ -473,7 +473,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷǼ
+	 * 判断元素是否是假
 	 * @return BoolArray
 	 */
 	public BoolArray isFalse() {
@@ -491,8 +491,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * жָλõԪǷTrue
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是True
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isTrue(int index) {
@@ -500,8 +500,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * жָλõԪǷFalse
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是False
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isFalse(int index) {
@@ -509,24 +509,24 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ǷǼʱ飬ʱĿԱ޸ģ f1+f2+f3ֻһŽ
-	 * @return trueʱ飬falseʱ
+	 * 是否是计算过程中临时产生的数组，临时产生的可以被修改，比如 f1+f2+f3，只需产生一个数组存放结果
+	 * @return true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public boolean isTemporary() {
 		return datas[0] == Boolean.TRUE;
 	}
 
 	/**
-	 * ǷǼʱ
-	 * @param ifTemporary trueʱ飬falseʱ
+	 * 设置是否是计算过程中临时产生的数组
+	 * @param ifTemporary true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public void setTemporary(boolean ifTemporary) {
 		datas[0] = Boolean.valueOf(isTemporary());
 	}
 	
 	/**
-	 * ɾָλõԪ
-	 * @param index 1ʼ
+	 * 删除指定位置的元素
+	 * @param index 索引，从1开始计数
 	 */
 	public void remove(int index) {
 		System.arraycopy(datas, index + 1, datas, index, size - index);
@@ -534,16 +534,16 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ɾһԪ
+	 * 删除最后一个元素
 	 */
 	public void removeLast() {
 		datas[size--] = null;
 	}
 	
 	/**
-	 * ɾָڵԪ
-	 * @param from ʼλã
-	 * @param to λã
+	 * 删除指定区间内的元素
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 */
 	public void removeRange(int fromIndex, int toIndex) {
 		System.arraycopy(datas, toIndex + 1, datas, fromIndex, size - toIndex);
@@ -555,8 +555,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ɾָλõԪأŴС
-	 * @param seqs 
+	 * 删除指定位置的元素，序号从小到大排序
+	 * @param seqs 索引数组
 	 */
 	public void remove(int []seqs) {
 		int delCount = 0;
@@ -588,9 +588,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ָڵ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 保留指定区间内的数据
+	 * @param start 起始位置（包含）
+	 * @param end 结束位置（包含）
 	 */
 	public void reserve(int start, int end) {
 		int newSize = end - start + 1;
@@ -608,8 +608,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ȡֵΪԪĿ
-	 * @return ȡֵΪԪĿ
+	 * 返回数组取值为真的元素数目
+	 * @return 取值为真的元素数目
 	 */
 	public int count() {
 		Object []datas = this.datas;
@@ -626,8 +626,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * жǷȡֵΪtrueԪ
-	 * @return trueУfalseû
+	 * 判断数组是否有取值为true的元素
+	 * @return true：有，false：没有
 	 */
 	public boolean containTrue() {
 		int size = this.size;
@@ -646,7 +646,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * صһΪյԪ
+	 * 返回第一个不为空的元素
 	 * @return Object
 	 */
 	public Object ifn() {
@@ -663,16 +663,16 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ޸ָԪصֵͲ׳쳣
-	 * @param index 1ʼ
-	 * @param obj ֵ
+	 * 修改数组指定元素的值，如果类型不兼容则抛出异常
+	 * @param index 索引，从1开始计数
+	 * @param obj 值
 	 */
 	public void set(int index, Object obj) {
 		datas[index] = obj;
 	}
 	
 	/**
-	 * ɾеԪ
+	 * 删除所有的元素
 	 */
 	public void clear() {
 		Object []datas = this.datas;
@@ -685,9 +685,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @return int Ԫص,ڷظĲλ.
+	 * @return int 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem) {
 		if (elem != null) {
@@ -716,7 +716,7 @@ public class ObjectArray implements IArray {
 		}
 	}
 	
-	// 鰴򣬽нֲ
+	// 数组按降序排序，进行降序二分查找
 	private int descBinarySearch(Object elem) {
 		Object []datas = this.datas;
 		int low = 1, high = size;
@@ -737,11 +737,11 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @param start ʼλã
-	 * @param end λã
-	 * @return Ԫص,ڷظĲλ.
+	 * @param start 起始查找位置（包含）
+	 * @param end 结束查找位置（包含）
+	 * @return 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem, int start, int end) {
 		if (elem != null) {
@@ -771,9 +771,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * бǷָԪ
-	 * @param elem Object ҵԪ
-	 * @return boolean truefalse
+	 * 返回列表中是否包含指定元素
+	 * @param elem Object 待查找的元素
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object elem) {
 		if (elem != null) {
@@ -801,10 +801,10 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * жԪǷڵǰ
-	 * @param isSorted ǰǷ
-	 * @param array 
-	 * @param result ڴŽֻȡֵΪtrue
+	 * 判断数组的元素是否在当前数组中
+	 * @param isSorted 当前数组是否有序
+	 * @param array 数组
+	 * @param result 用于存放结果，只找取值为true的
 	 */
 	public void contains(boolean isSorted, IArray array, BoolArray result) {
 		int resultSize = result.size();
@@ -824,9 +824,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * бǷָԪأʹõȺűȽ
+	 * 返回列表中是否包含指定元素，使用等号比较
 	 * @param elem
-	 * @return boolean truefalse
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean objectContains(Object elem) {
 		Object []datas = this.datas;
@@ -840,10 +840,10 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * Ԫ״γֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中首次出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int firstIndexOf(Object elem, int start) {
 		if (elem != null) {
@@ -871,10 +871,10 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * Ԫֵλ
-	 * @param elem ҵԪ
-	 * @param start Ӻ濪ʼҵλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中最后出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 从后面开始查找的位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int lastIndexOf(Object elem, int start) {
 		if (elem != null) {
@@ -900,11 +900,11 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * Ԫгֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @param isSorted ǰǷ
-	 * @param isFromHead trueͷʼfalseβǰʼ
+	 * 返回元素在数组中所有出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @param isSorted 当前数组是否有序
+	 * @param isFromHead true：从头开始遍历，false：从尾向前开始遍历
 	 * @return IntArray
 	 */
 	public IntArray indexOfAll(Object elem, int start, boolean isSorted, boolean isFromHead) {
@@ -960,13 +960,13 @@ public class ObjectArray implements IArray {
 				return new IntArray(1);
 			}
 			
-			// ҵһ
+			// 找到第一个
 			int first = index;
 			while (first > start && Variant.isEquals(datas[first - 1], elem)) {
 				first--;
 			}
 			
-			// ҵһ
+			// 找到最后一个
 			int last = index;
 			while (last < end && Variant.isEquals(datas[last + 1], elem)) {
 				last++;
@@ -1005,8 +1005,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * Աֵ
-	 * @return IArray ֵ
+	 * 对数组成员求绝对值
+	 * @return IArray 绝对值数组
 	 */
 	public IArray abs() {
 		int size = this.size;
@@ -1031,8 +1031,8 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求负
+	 * @return IArray 负值数组
 	 */
 	public IArray negate() {
 		int size = this.size;
@@ -1077,8 +1077,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * Աs
-	 * @return IArray ֵ
+	 * 对数组成员求非s
+	 * @return IArray 非值数组
 	 */
 	public IArray not() {
 		Object []datas = this.datas;
@@ -1095,8 +1095,8 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * жĳԱǷ԰null
-	 * @return truefalseзֵ
+	 * 判断数组的成员是否都是数（可以包含null）
+	 * @return true：都是数，false：含有非数的值
 	 */
 	public boolean isNumberArray() {
 		Object []datas = this.datas;
@@ -1112,9 +1112,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱĺ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的和
+	 * @param array 右侧数组
+	 * @return 和数组
 	 */
 	public IArray memberAdd(IArray array) {
 		if (array instanceof IntArray) {
@@ -1139,9 +1139,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ĳԱָĺ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的和
+	 * @param value 常数
+	 * @return 和数组
 	 */
 	public IArray memberAdd(Object value) {
 		if (value == null) {
@@ -1380,9 +1380,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱĲ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的差
+	 * @param array 右侧数组
+	 * @return 差数组
 	 */
 	public IArray memberSubtract(IArray array) {
 		if (array instanceof IntArray) {
@@ -1405,9 +1405,9 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ĳԱָĲ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的差
+	 * @param value 常数
+	 * @return 差数组
 	 */
 	private IArray memberSubtract(Object value) {
 		if (value == null) {
@@ -1625,9 +1625,9 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĻ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的积
+	 * @param array 右侧数组
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(IArray array) {
 		if (array instanceof IntArray) {
@@ -1648,9 +1648,9 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ĳԱָĻ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的积
+	 * @param value 常数
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(Object value) {
 		if (value == null) {
@@ -1829,9 +1829,9 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĳ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的除
+	 * @param array 右侧数组
+	 * @return 商数组
 	 */
 	public IArray memberDivide(IArray array) {
 		if (array instanceof IntArray) {
@@ -2033,9 +2033,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ӦԱȡгԱ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的数成员取余或序列成员异或列
+	 * @param array 右侧数组
+	 * @return 余数数组或序列异或列数组
 	 */
 	public IArray memberMod(IArray array) {
 		if (array instanceof IntArray) {
@@ -2263,9 +2263,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ԱгԱ
-	 * @param array Ҳ
-	 * @return ֵв
+	 * 计算两个数组的数成员整除或序列成员差集
+	 * @param array 右侧数组
+	 * @return 整除值数组或序列差集数组
 	 */
 	public IArray memberIntDivide(IArray array) {
 		if (array instanceof IntArray) {
@@ -2471,10 +2471,10 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(IArray array, int relation) {
 		if (array instanceof IntArray) {
@@ -2499,10 +2499,10 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(Object value, int relation) {
 		if (value == null) {
@@ -2514,32 +2514,32 @@ public class ObjectArray implements IArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], value) == 0;
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], value) > 0;
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], value) >= 0;
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], value) < 0;
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], value) <= 0;
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], value) != 0;
 			}
@@ -2575,32 +2575,32 @@ public class ObjectArray implements IArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], d2[i]) == 0;
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], d2[i]) > 0;
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], d2[i]) >= 0;
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], d2[i]) < 0;
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], d2[i]) <= 0;
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = Variant.compare(d1[i], d2[i]) != 0;
 			}
@@ -2620,9 +2620,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ȽĴС
-	 * @param array Ҳ
-	 * @return 1ǰ0ȣ-1ǰС
+	 * 比较两个数组的大小
+	 * @param array 右侧数组
+	 * @return 1：当前数组大，0：两个数组相等，-1：当前数组小
 	 */
 	public int compareTo(IArray array) {
 		if (array instanceof ObjectArray) {
@@ -2679,9 +2679,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * 2ԱıȽֵ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 计算数组的2个成员的比较值
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public int memberCompare(int index1, int index2) {
@@ -2689,9 +2689,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * жԱǷ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 判断数组的两个成员是否相等
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public boolean isMemberEquals(int index1, int index2) {
@@ -2699,11 +2699,11 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * жָԪǷͬ
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return trueͬfalseͬ
+	 * 判断两个数组的指定元素是否相同
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return true：相同，false：不相同
 	 */
 	public boolean isEquals(int curIndex, IArray array, int index) {
 		return Variant.isEquals(datas[curIndex], array.get(index));
@@ -2711,30 +2711,30 @@ public class ObjectArray implements IArray {
 	
 	
 	/**
-	 * жָԪǷֵ
-	 * @param curIndex Ԫ1ʼ
-	 * @param value ֵ
-	 * @return trueȣfalse
+	 * 判断数组的指定元素是否与给定值相等
+	 * @param curIndex 数组元素索引，从1开始计数
+	 * @param value 值
+	 * @return true：相等，false：不相等
 	 */
 	public boolean isEquals(int curIndex, Object value) {
 		return Variant.isEquals(datas[curIndex], value);
 	}
 	
 	/**
-	 * жָԪصĴС
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return СڣС0ڣ0ڣ0
+	 * 判断两个数组的指定元素的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return 小于：小于0，等于：0，大于：大于0
 	 */
 	public int compareTo(int curIndex, IArray array, int index) {
 		return Variant.compare(datas[curIndex], array.get(index), true);
 	}
 	
 	/**
-	 * ȽָԪֵĴС
-	 * @param curIndex ǰԪص
-	 * @param value ҪȽϵֵ
+	 * 比较数组的指定元素与给定值的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param value 要比较的值
 	 * @return
 	 */
 	public int compareTo(int curIndex, Object value) {
@@ -2742,10 +2742,10 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * arrayָԪؼӵǰָԪ
-	 * @param curIndex ǰԪص
-	 * @param array Ҫӵ
-	 * @param index ҪӵԪص
+	 * 把array的指定元素加到当前数组的指定元素上
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要相加的数组
+	 * @param index 要相加的数组的元素的索引
 	 * @return IArray
 	 */
 	public IArray memberAdd(int curIndex, IArray array, int index) {
@@ -2758,9 +2758,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ȡָԱĹϣֵ
-	 * @param index Ա1ʼ
-	 * @return ָԱĹϣֵ
+	 * 取指定成员的哈希值
+	 * @param index 成员索引，从1开始计数
+	 * @return 指定成员的哈希值
 	 */
 	public int hashCode(int index) {
 		if (datas[index] != null) {
@@ -2771,7 +2771,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * Ա
+	 * 求成员和
 	 * @return
 	 */
 	public Object sum() {
@@ -2797,7 +2797,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ƽֵ
+	 * 求平均值
 	 * @return
 	 */
 	public Object average() {
@@ -2826,7 +2826,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * õĳԱ
+	 * 得到最大的成员
 	 * @return
 	 */
 	public Object max() {
@@ -2856,7 +2856,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * õСĳԱ
+	 * 得到最小的成员
 	 * @return
 	 */
 	public Object min() {
@@ -2886,11 +2886,11 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(IArray array, int relation, BoolArray result, boolean isAnd) {
 		if (array instanceof IntArray) {
@@ -2915,11 +2915,11 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(Object value, int relation, BoolArray result, boolean isAnd) {
 		if (value == null) {
@@ -2931,44 +2931,44 @@ public class ObjectArray implements IArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], value) != 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], value) <= 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], value) < 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], value) >= 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], value) > 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], value) == 0) {
 						resultDatas[i] = false;
@@ -2978,45 +2978,45 @@ public class ObjectArray implements IArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
-			// ִ||
+			// 与左侧结果执行||运算
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], value) == 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], value) > 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], value) >= 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], value) < 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], value) <= 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], value) != 0) {
 						resultDatas[i] = true;
@@ -3035,44 +3035,44 @@ public class ObjectArray implements IArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], d2[i]) != 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], d2[i]) <= 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], d2[i]) < 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], d2[i]) >= 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], d2[i]) > 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && Variant.compare(d1[i], d2[i]) == 0) {
 						resultDatas[i] = false;
@@ -3082,45 +3082,45 @@ public class ObjectArray implements IArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
-			// ִ||
+			// 与左侧结果执行||运算
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], d2[i]) == 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], d2[i]) > 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], d2[i]) >= 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], d2[i]) < 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], d2[i]) <= 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && Variant.compare(d1[i], d2[i]) != 0) {
 						resultDatas[i] = true;
@@ -3133,9 +3133,9 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱİλ
-	 * @param array Ҳ
-	 * @return λ
+	 * 计算两个数组的相对应的成员的按位与
+	 * @param array 右侧数组
+	 * @return 按位与结果数组
 	 */
 	public IArray bitwiseAnd(IArray array) {
 		int size = this.size;
@@ -3174,8 +3174,8 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ȡʶȡֵΪжӦݣ
-	 * @param signArray ʶ
+	 * 取出标识数组取值为真的行对应的数据，组成新数组
+	 * @param signArray 标识数组
 	 * @return IArray
 	 */
 	public IArray select(IArray signArray) {
@@ -3214,8 +3214,8 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ѳԱתɶ鷵
-	 * @return 
+	 * 把成员转成对象数组返回
+	 * @return 对象数组
 	 */
 	public Object[] toArray() {
 		Object []result = new Object[size];
@@ -3224,17 +3224,17 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ѳԱָ
-	 * @param result ڴųԱ
+	 * 把成员填到指定的数组
+	 * @param result 用于存放成员的数组
 	 */
 	public void toArray(Object []result) {
 		System.arraycopy(datas, 1, result, 0, size);
 	}
 	
 	/**
-	 * ָλò
-	 * @param pos λã
-	 * @return غ벿Ԫعɵ
+	 * 把数组从指定位置拆成两个数组
+	 * @param pos 位置，包含
+	 * @return 返回后半部分元素构成的数组
 	 */
 	public IArray split(int pos) {
 		Object []datas = this.datas;
@@ -3252,9 +3252,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ָԪط
-	 * @param from ʼλã
-	 * @param to λã
+	 * 把指定区间元素分离出来组成新数组
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 * @return
 	 */
 	public IArray split(int from, int to) {
@@ -3275,22 +3275,22 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * Ԫؽ
+	 * 对数组的元素进行排序
 	 */
 	public void sort() {
 		MultithreadUtil.sort(datas, 1, size + 1);
 	}
 	
 	/**
-	 * Ԫؽ
-	 * @param comparator Ƚ
+	 * 对数组的元素进行排序
+	 * @param comparator 比较器
 	 */
 	public void sort(Comparator<Object> comparator) {
 		MultithreadUtil.sort(datas, 1, size + 1, comparator);
 	}
 	
 	/**
-	 * Ƿм¼
+	 * 返回数组中是否含有记录
 	 * @return boolean
 	 */
 	public boolean hasRecord() {
@@ -3305,9 +3305,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * Ƿǣ
-	 * @param isPure trueǷǴ
-	 * @return boolean trueǣfalse
+	 * 返回是否是（纯）排列
+	 * @param isPure true：检查是否是纯排列
+	 * @return boolean true：是，false：不是
 	 */
 	public boolean isPmt(boolean isPure) {
 		Object []datas = this.datas;
@@ -3344,7 +3344,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ķת
+	 * 返回数组的反转数组
 	 * @return IArray
 	 */
 	public IArray rvs() {
@@ -3360,10 +3360,10 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ԪشСȡǰcountλ
-	 * @param count countС0ȡ|count|λ
-	 * @param isAll countΪ1ʱisAllȡֵΪtrueȡһԪصλãֻȡһ
-	 * @param isLast ǷӺʼ
+	 * 对数组元素从小到大做排名，取前count名的位置
+	 * @param count 如果count小于0则取后|count|名的位置
+	 * @param isAll count为正负1时，如果isAll取值为true则取所有排名第一的元素的位置，否则只取一个
+	 * @param isLast 是否从后开始找
 	 * @param ignoreNull
 	 * @return IntArray
 	 */
@@ -3377,7 +3377,7 @@ public class ObjectArray implements IArray {
 		Object []datas = this.datas;
 		if (ignoreNull) {
 			if (count == 1) {
-				// ȡСֵλ
+				// 取最小值的位置
 				Object minValue = null;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -3454,7 +3454,7 @@ public class ObjectArray implements IArray {
 					return result;
 				}
 			} else if (count > 1) {
-				// ȡСcountԪصλ
+				// 取最小的count个元素的位置
 				int next = count + 1;
 				ObjectArray valueArray = new ObjectArray(next);
 				IntArray posArray = new IntArray(next);
@@ -3478,7 +3478,7 @@ public class ObjectArray implements IArray {
 				
 				return posArray;
 			} else if (count == -1) {
-				// ȡֵλ
+				// 取最大值的位置
 				Object maxValue = null;
 				if (isAll) {
 					IntArray result = new IntArray(8);
@@ -3555,7 +3555,7 @@ public class ObjectArray implements IArray {
 					return result;
 				}
 			} else if (count < -1) {
-				// ȡcountԪصλ
+				// 取最大的count个元素的位置
 				count = -count;
 				int next = count + 1;
 				ObjectArray valueArray = new ObjectArray(next);
@@ -3584,7 +3584,7 @@ public class ObjectArray implements IArray {
 			}
 		} else {
 			if (count == 1) {
-				// ȡСֵλ
+				// 取最小值的位置
 				if (isAll) {
 					IntArray result = new IntArray(8);
 					result.addInt(1);
@@ -3632,7 +3632,7 @@ public class ObjectArray implements IArray {
 					return result;
 				}
 			} else if (count > 1) {
-				// ȡСcountԪصλ
+				// 取最小的count个元素的位置
 				int next = count + 1;
 				ObjectArray valueArray = new ObjectArray(next);
 				IntArray posArray = new IntArray(next);
@@ -3655,7 +3655,7 @@ public class ObjectArray implements IArray {
 				
 				return posArray;
 			} else if (count == -1) {
-				// ȡֵλ
+				// 取最大值的位置
 				if (isAll) {
 					IntArray result = new IntArray(8);
 					Object maxValue = datas[1];
@@ -3703,7 +3703,7 @@ public class ObjectArray implements IArray {
 					return result;
 				}
 			} else if (count < -1) {
-				// ȡcountԪصλ
+				// 取最大的count个元素的位置
 				count = -count;
 				int next = count + 1;
 				ObjectArray valueArray = new ObjectArray(next);
@@ -3737,7 +3737,7 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ѵǰתɶ飬ǰǶ򷵻鱾
+	 * 把当前数组转成对象数组，如果当前数组是对象数组则返回数组本身
 	 * @return ObjectArray
 	 */
 	public ObjectArray toObjectArray() {
@@ -3745,7 +3745,7 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * Ѷתɴ飬ת׳쳣
+	 * 把对象数组转成纯类型数组，不能转则抛出异常
 	 * @return IArray
 	 */
 	public IArray toPureArray() {
@@ -3797,8 +3797,8 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * л
-	 * @param refOrigin ԴУ
+	 * 保留数组数据用于生成序列或序表
+	 * @param refOrigin 引用源列，不复制数据
 	 * @return
 	 */
 	public IArray reserve(boolean refOrigin) {
@@ -3813,9 +3813,9 @@ public class ObjectArray implements IArray {
 	}
 	
 	/**
-	 * ѡԱ飬ӵǰѡ־Ϊtrueģotherѡ־Ϊfalse
-	 * @param signArray ־
-	 * @param other һ
+	 * 根据条件从两个数组选出成员组成新数组，从当前数组选出标志为true的，从other数组选出标志为false的
+	 * @param signArray 标志数组
+	 * @param other 另一个数组
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, IArray other) {
@@ -3851,9 +3851,9 @@ public class ObjectArray implements IArray {
 	}
 
 	/**
-	 * ӵǰѡ־Ϊtrueģ־Ϊfalseóvalue
-	 * @param signArray ־
-	 * @param other ֵ
+	 * 根据条件从当前数组选出标志为true的，标志为false的置成value
+	 * @param signArray 标志数组
+	 * @param other 值
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, Object value) {
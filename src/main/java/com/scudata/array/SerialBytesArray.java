@@ -17,14 +17,14 @@ import com.scudata.util.HashUtil;
 import com.scudata.util.Variant;
 
 /**
- * ź
+ * 排号数组
  * @author WangXiaoJun
  *
  */
 public class SerialBytesArray implements IArray {
 	private static final long NULL = 0;
 	
-	// 0ԪرʾǷʱ
+	// 第0个元素表示是否是临时数组
 	private long []datas1; 
 	private long []datas2;
 	private int size;
@@ -46,8 +46,8 @@ public class SerialBytesArray implements IArray {
 	}
 	
 	/**
-	 * дݵ
-	 * @param out 
+	 * 写内容到流
+	 * @param out 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -66,8 +66,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ж
-	 * @param in 
+	 * 从流中读内容
+	 * @param in 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -126,9 +126,9 @@ public class SerialBytesArray implements IArray {
 	}
 	
 	/**
-	 * ׷ź
-	 * @param value1 ֵ1
-	 * @param value2 ֵ2
+	 * 追加排号
+	 * @param value1 值1
+	 * @param value2 值2
 	 */
 	public void add(long value1, long value2) {
 		int newSize = size + 1;
@@ -139,8 +139,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ׷ԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素，如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void add(Object o) {
 		if (o instanceof SerialBytes) {
@@ -163,8 +163,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(Object[] array) {
 		for (Object obj : array) {
@@ -197,8 +197,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
 	 */
 	public void addAll(IArray array) {
 		int size2 = array.size();
@@ -237,9 +237,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ׷һԪأͲ׳쳣
-	 * @param array Ԫ
-	 * @param count Ԫظ
+	 * 追加一组元素，如果类型不兼容则抛出异常
+	 * @param array 元素数组
+	 * @param count 元素个数
 	 */
 	public void addAll(IArray array, int count) {
 		if (count == 0) {
@@ -277,9 +277,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ԪأͲ׳쳣
-	 * @param index λã1ʼ
-	 * @param o Ԫֵ
+	 * 插入元素，如果类型不兼容则抛出异常
+	 * @param index 插入位置，从1开始计数
+	 * @param o 元素值
 	 */
 	public void insert(int index, Object o) {
 		if (o instanceof SerialBytes) {
@@ -319,9 +319,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, IArray array) {
 		if (array instanceof SerialBytesArray) {
@@ -342,9 +342,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ָλòһԪأͲ׳쳣
-	 * @param pos λã1ʼ
-	 * @param array Ԫ
+	 * 在指定位置插入一组元素，如果类型不兼容则抛出异常
+	 * @param pos 位置，从1开始计数
+	 * @param array 元素数组
 	 */
 	public void insertAll(int pos, Object[] array) {
 		for (Object obj : array) {
@@ -378,9 +378,9 @@ public class SerialBytesArray implements IArray {
 	}
 	
 	/**
-	 * ׷źţΪ㹻ռԪأ
-	 * @param value1 ֵ1
-	 * @param value2 ֵ2
+	 * 追加排号（不检查容量，认为有足够空间存放元素）
+	 * @param value1 值1
+	 * @param value2 值2
 	 */
 	public void push(long value1, long value2) {
 		size++;
@@ -389,8 +389,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ׷ԪأΪ㹻ռԪأͲ׳쳣
-	 * @param o Ԫֵ
+	 * 追加元素（不检查容量，认为有足够空间存放元素），如果类型不兼容则抛出异常
+	 * @param o 元素值
 	 */
 	public void push(Object o) {
 		if (o instanceof SerialBytes) {
@@ -410,7 +410,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ׷ӿԪ
+	 * 追加空元素
 	 */
 	public void pushNull() {
 		size++;
@@ -419,9 +419,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void push(IArray array, int index) {
 		if (array instanceof SerialBytesArray) {
@@ -435,9 +435,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * arrayеĵindexԪӵǰУͲ׳쳣
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素添加到当前数组中，如果类型不兼容则抛出异常
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void add(IArray array, int index) {
 		if (array instanceof SerialBytesArray) {
@@ -452,10 +452,10 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * arrayеĵindexԪǰָԪأͲ׳쳣
-	 * @param curIndex ǰԪ1ʼ
-	 * @param array 
-	 * @param index Ԫ1ʼ
+	 * 把array中的第index个元素设给到当前数组的指定元素，如果类型不兼容则抛出异常
+	 * @param curIndex 当前数组的元素索引，从1开始计数
+	 * @param array 数组
+	 * @param index 元素索引，从1开始计数
 	 */
 	public void set(int curIndex, IArray array, int index) {
 		if (array instanceof SerialBytesArray) {
@@ -468,8 +468,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ȡָλԪ
-	 * @param index 1ʼ
+	 * 取指定位置元素
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public Object get(int index) {
@@ -481,8 +481,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(int[] indexArray) {
@@ -503,11 +503,11 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ȡָλԪ
-	 * @param indexArray λ
-	 * @param start ʼλã
-	 * @param end λã
-	 * @param doCheck trueλÿܰ00λnull䣬false0
+	 * 取指定位置元素组成新数组
+	 * @param indexArray 位置数组
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，包含
+	 * @param doCheck true：位置可能包含0，0的位置用null填充，false：不会包含0
 	 * @return IArray
 	 */
 	public IArray get(int[] indexArray, int start, int end, boolean doCheck) {
@@ -539,9 +539,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ȡĳһ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 取某一区段组成新数组
+	 * @param start 起始位置（包括）
+	 * @param end 结束位置（不包括）
 	 * @return IArray
 	 */
 	public IArray get(int start, int end) {
@@ -555,8 +555,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ȡָλԪ
-	 * @param NumberArray λ
+	 * 取指定位置元素组成新数组
+	 * @param NumberArray 位置数组
 	 * @return IArray
 	 */
 	public IArray get(NumberArray indexArray) {
@@ -583,8 +583,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ʹбСminCapacity
-	 * @param minCapacity С
+	 * 使列表的容量不小于minCapacity
+	 * @param minCapacity 最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 		if (datas1.length <= minCapacity) {
@@ -603,8 +603,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жָλõԪǷǿ
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是空
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isNull(int index) {
@@ -612,7 +612,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жԪǷTrue
+	 * 判断元素是否是True
 	 * @return BoolArray
 	 */
 	public BoolArray isTrue() {
@@ -633,7 +633,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жԪǷǼ
+	 * 判断元素是否是假
 	 * @return BoolArray
 	 */
 	public BoolArray isFalse() {
@@ -654,8 +654,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жָλõԪǷTrue
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是True
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isTrue(int index) {
@@ -663,8 +663,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жָλõԪǷFalse
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是False
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isFalse(int index) {
@@ -672,31 +672,31 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ǷǼʱ飬ʱĿԱ޸ģ f1+f2+f3ֻһŽ
-	 * @return trueʱ飬falseʱ
+	 * 是否是计算过程中临时产生的数组，临时产生的可以被修改，比如 f1+f2+f3，只需产生一个数组存放结果
+	 * @return true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public boolean isTemporary() {
 		return datas1[0] == 1;
 	}
 
 	/**
-	 * ǷǼʱ
-	 * @param ifTemporary trueʱ飬falseʱ
+	 * 设置是否是计算过程中临时产生的数组
+	 * @param ifTemporary true：是临时产生的数组，false：不是临时产生的数组
 	 */
 	public void setTemporary(boolean ifTemporary) {
 		datas1[0] = ifTemporary ? 1 : 0;
 	}
 
 	/**
-	 * ɾһԪ
+	 * 删除最后一个元素
 	 */
 	public void removeLast() {
 		size--;
 	}
 
 	/**
-	 * ɾָλõԪ
-	 * @param index 1ʼ
+	 * 删除指定位置的元素
+	 * @param index 索引，从1开始计数
 	 */
 	public void remove(int index) {
 		System.arraycopy(datas1, index + 1, datas1, index, size - index);
@@ -705,8 +705,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ɾָλõԪأŴС
-	 * @param seqs 
+	 * 删除指定位置的元素，序号从小到大排序
+	 * @param seqs 索引数组
 	 */
 	public void remove(int[] seqs) {
 		int delCount = 0;
@@ -736,9 +736,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ɾָڵԪ
-	 * @param from ʼλã
-	 * @param to λã
+	 * 删除指定区间内的元素
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 */
 	public void removeRange(int fromIndex, int toIndex) {
 		System.arraycopy(datas1, toIndex + 1, datas1, fromIndex, size - toIndex);
@@ -755,8 +755,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ķǿԪĿ
-	 * @return ǿԪĿ
+	 * 返回数组的非空元素数目
+	 * @return 非空元素数目
 	 */
 	public int count() {
 		long []datas1 = this.datas1;
@@ -774,8 +774,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жǷȡֵΪtrueԪ
-	 * @return trueУfalseû
+	 * 判断数组是否有取值为true的元素
+	 * @return true：有，false：没有
 	 */
 	public boolean containTrue() {
 		long []datas1 = this.datas1;
@@ -791,7 +791,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * صһΪյԪ
+	 * 返回第一个不为空的元素
 	 * @return Object
 	 */
 	public Object ifn() {
@@ -808,9 +808,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ޸ָԪصֵͲ׳쳣
-	 * @param index 1ʼ
-	 * @param obj ֵ
+	 * 修改数组指定元素的值，如果类型不兼容则抛出异常
+	 * @param index 索引，从1开始计数
+	 * @param obj 值
 	 */
 	public void set(int index, Object obj) {
 		if (obj instanceof SerialBytes) {
@@ -832,20 +832,20 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @return Ԫص,ڷظĲλ.
+	 * @return 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem) {
 		return binarySearch(elem, 1, size);
 	}
 	
 	/**
-	 * ַָź
-	 * @param value1 źŵֵ1
-	 * @param value2 źŵֵ2
-	 * @param start ʼλã
-	 * @param end λã
+	 * 二分法查找指定排号
+	 * @param value1 排号的值1
+	 * @param value2 排号的值2
+	 * @param start 起始查找位置（包含）
+	 * @param end 结束查找位置（包含）
 	 * @return
 	 */
 	public int binarySearch(long value1, long value2, int start, int end) {
@@ -869,7 +869,7 @@ public class SerialBytesArray implements IArray {
 		return -low; // key not found
 	}
 	
-	// 鰴򣬽нֲ
+	// 数组按降序排序，进行降序二分查找
 	private int descBinarySearch(long value1, long value2) {
 		long []datas1 = this.datas1;
 		long []datas2 = this.datas2;
@@ -891,11 +891,11 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @param start ʼλã
-	 * @param end λã
-	 * @return Ԫص,ڷظĲλ.
+	 * @param start 起始查找位置（包含）
+	 * @param end 结束查找位置（包含）
+	 * @return 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem, int start, int end) {
 		if (elem instanceof SerialBytes) {
@@ -934,7 +934,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жǷָź
+	 * 判断数组中是否包含指定排号
 	 * @param value1
 	 * @param value2
 	 * @return
@@ -954,9 +954,9 @@ public class SerialBytesArray implements IArray {
 	}
 	
 	/**
-	 * бǷָԪ
-	 * @param elem Object ҵԪ
-	 * @return boolean truefalse
+	 * 返回列表中是否包含指定元素
+	 * @param elem Object 待查找的元素
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object elem) {
 		if (elem instanceof SerialBytes) {
@@ -992,10 +992,10 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жԪǷڵǰ
-	 * @param isSorted ǰǷ
-	 * @param array 
-	 * @param result ڴŽֻȡֵΪtrue
+	 * 判断数组的元素是否在当前数组中
+	 * @param isSorted 当前数组是否有序
+	 * @param array 数组
+	 * @param result 用于存放结果，只找取值为true的
 	 */
 	public void contains(boolean isSorted, IArray array, BoolArray result) {
 		int resultSize = result.size();
@@ -1036,19 +1036,19 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * бǷָԪأʹõȺűȽ
+	 * 返回列表中是否包含指定元素，使用等号比较
 	 * @param elem
-	 * @return boolean truefalse
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean objectContains(Object elem) {
 		return false;
 	}
 
 	/**
-	 * Ԫ״γֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中首次出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int firstIndexOf(Object elem, int start) {
 		if (elem instanceof SerialBytes) {
@@ -1084,10 +1084,10 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * Ԫֵλ
-	 * @param elem ҵԪ
-	 * @param start Ӻ濪ʼҵλã
-	 * @return Ԫش򷵻ֵ0򷵻0
+	 * 返回元素在数组中最后出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 从后面开始查找的位置（包含）
+	 * @return 如果元素存在则返回值大于0，否则返回0
 	 */
 	public int lastIndexOf(Object elem, int start) {
 		if (elem instanceof SerialBytes) {
@@ -1121,11 +1121,11 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * Ԫгֵλ
-	 * @param elem ҵԪ
-	 * @param start ʼλã
-	 * @param isSorted ǰǷ
-	 * @param isFromHead trueͷʼfalseβǰʼ
+	 * 返回元素在数组中所有出现的位置
+	 * @param elem 待查找的元素
+	 * @param start 起始查找位置（包含）
+	 * @param isSorted 当前数组是否有序
+	 * @param isFromHead true：从头开始遍历，false：从尾向前开始遍历
 	 * @return IntArray
 	 */
 	public IntArray indexOfAll(Object elem, int start, boolean isSorted, boolean isFromHead) {
@@ -1150,13 +1150,13 @@ public class SerialBytesArray implements IArray {
 					return new IntArray(1);
 				}
 				
-				// ҵһ
+				// 找到第一个
 				int first = index;
 				while (first > start && datas1[first - 1] == value1 && datas2[first - 1] == value2) {
 					first--;
 				}
 				
-				// ҵһ
+				// 找到最后一个
 				int last = index;
 				while (last < end && datas1[last + 1] == value1 && datas2[last + 1] == value2) {
 					last++;
@@ -1233,7 +1233,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * 
+	 * 复制数组
 	 * @return
 	 */
 	public IArray dup() {
@@ -1247,7 +1247,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * һͬ͵
+	 * 返回一个同类型的数组
 	 * @param count
 	 * @return
 	 */
@@ -1256,8 +1256,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * Աֵ
-	 * @return IArray ֵ
+	 * 对数组成员求绝对值
+	 * @return IArray 绝对值数组
 	 */
 	public IArray abs() {
 		MessageManager mm = EngineMessage.get();
@@ -1265,8 +1265,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求负
+	 * @return IArray 负值数组
 	 */
 	public IArray negate() {
 		MessageManager mm = EngineMessage.get();
@@ -1274,8 +1274,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * Ա
-	 * @return IArray ֵ
+	 * 对数组成员求非
+	 * @return IArray 非值数组
 	 */
 	public IArray not() {
 		long []datas1 = this.datas1;
@@ -1293,17 +1293,17 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жĳԱǷ԰null
-	 * @return truefalseзֵ
+	 * 判断数组的成员是否都是数（可以包含null）
+	 * @return true：都是数，false：含有非数的值
 	 */
 	public boolean isNumberArray() {
 		return false;
 	}
 
 	/**
-	 * ӦĳԱĺ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的和
+	 * @param array 右侧数组
+	 * @return 和数组
 	 */
 	public IArray memberAdd(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1312,9 +1312,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ĳԱָĺ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的和
+	 * @param value 常数
+	 * @return 和数组
 	 */
 	public IArray memberAdd(Object value) {
 		MessageManager mm = EngineMessage.get();
@@ -1323,10 +1323,10 @@ public class SerialBytesArray implements IArray {
 	}
 	
 	/**
-	 * arrayָԪؼӵǰָԪ
-	 * @param curIndex ǰԪص
-	 * @param array Ҫӵ
-	 * @param index ҪӵԪص
+	 * 把array的指定元素加到当前数组的指定元素上
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要相加的数组
+	 * @param index 要相加的数组的元素的索引
 	 * @return IArray
 	 */
 	public IArray memberAdd(int curIndex, IArray array, int index) {
@@ -1336,9 +1336,9 @@ public class SerialBytesArray implements IArray {
 	}	
 
 	/**
-	 * ӦĳԱĲ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的差
+	 * @param array 右侧数组
+	 * @return 差数组
 	 */
 	public IArray memberSubtract(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1347,9 +1347,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĻ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的积
+	 * @param array 右侧数组
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1358,9 +1358,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ĳԱָĻ
-	 * @param value 
-	 * @return 
+	 * 计算数组的成员与指定常数的积
+	 * @param value 常数
+	 * @return 积数组
 	 */
 	public IArray memberMultiply(Object value) {
 		MessageManager mm = EngineMessage.get();
@@ -1369,9 +1369,9 @@ public class SerialBytesArray implements IArray {
 	}
 	
 	/**
-	 * ӦĳԱĳ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的成员的除
+	 * @param array 右侧数组
+	 * @return 商数组
 	 */
 	public IArray memberDivide(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1380,9 +1380,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ӦԱȡгԱ
-	 * @param array Ҳ
-	 * @return 
+	 * 计算两个数组的相对应的数成员取余或序列成员异或列
+	 * @param array 右侧数组
+	 * @return 余数数组或序列异或列数组
 	 */
 	public IArray memberMod(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1391,9 +1391,9 @@ public class SerialBytesArray implements IArray {
 	}
 	
 	/**
-	 * ԱгԱ
-	 * @param array Ҳ
-	 * @return ֵв
+	 * 计算两个数组的数成员整除或序列成员差集
+	 * @param array 右侧数组
+	 * @return 整除值数组或序列差集数组
 	 */
 	public IArray memberIntDivide(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -1402,10 +1402,10 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(IArray array, int relation) {
 		if (array instanceof SerialBytesArray) {
@@ -1422,10 +1422,10 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @return ϵ
+	 * 计算两个数组的相对应的成员的关系运算
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @return 关系运算结果数组
 	 */
 	public BoolArray calcRelation(Object value, int relation) {
 		if (value instanceof SerialBytes) {
@@ -1438,32 +1438,32 @@ public class SerialBytesArray implements IArray {
 			boolean []resultDatas = new boolean[size + 1];
 			
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], value1, value2) == 0;
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], value1, value2) > 0;
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], value1, value2) >= 0;
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], value1, value2) < 0;
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], value1, value2) <= 0;
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], value1, value2) != 0;
 				}
@@ -1486,35 +1486,35 @@ public class SerialBytesArray implements IArray {
 			long []datas2 = this.datas2;
 			
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas1[i] == NULL && datas2[i] == NULL) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas1[i] == NULL || datas2[i] == NULL) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					resultDatas[i] = true;
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas1[i] == NULL && datas2[i] == NULL) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (datas1[i] != NULL || datas2[i] != NULL) {
 						resultDatas[i] = true;
@@ -1547,32 +1547,32 @@ public class SerialBytesArray implements IArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) == 0;
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) > 0;
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) >= 0;
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) < 0;
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) <= 0;
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) != 0;
 			}
@@ -1597,32 +1597,32 @@ public class SerialBytesArray implements IArray {
 		boolean []resultDatas = new boolean[size + 1];
 		
 		if (relation == Relation.EQUAL) {
-			// Ƿж
+			// 是否等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compareTo(i, d2[i]) == 0;
 			}
 		} else if (relation == Relation.GREATER) {
-			// Ƿж
+			// 是否大于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compareTo(i, d2[i]) > 0;
 			}
 		} else if (relation == Relation.GREATER_EQUAL) {
-			// Ƿڵж
+			// 是否大于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compareTo(i, d2[i]) >= 0;
 			}
 		} else if (relation == Relation.LESS) {
-			// ǷСж
+			// 是否小于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compareTo(i, d2[i]) < 0;
 			}
 		} else if (relation == Relation.LESS_EQUAL) {
-			// ǷСڵж
+			// 是否小于等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compareTo(i, d2[i]) <= 0;
 			}
 		} else if (relation == Relation.NOT_EQUAL) {
-			// Ƿ񲻵ж
+			// 是否不等于判断
 			for (int i = 1; i <= size; ++i) {
 				resultDatas[i] = compareTo(i, d2[i]) != 0;
 			}
@@ -1642,11 +1642,11 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(IArray array, int relation, BoolArray result, boolean isAnd) {
 		if (array instanceof SerialBytesArray) {
@@ -1663,11 +1663,11 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱĹϵ㣬ֻresultΪ
-	 * @param array Ҳ
-	 * @param relation ϵRelationڡСڡڡ...
-	 * @param result ǰϵҪ߼&&||
-	 * @param isAnd true && 㣬false || 
+	 * 计算两个数组的相对应的成员的关系运算，只计算result为真的行
+	 * @param array 右侧数组
+	 * @param relation 运算关系，参照Relation（大于、小于、等于、...）
+	 * @param result 左侧计算结果，当前关系运算结果需要与左侧结果做逻辑&&或者||运算
+	 * @param isAnd true：与左侧做 && 运算，false：与左侧做 || 运算
 	 */
 	public void calcRelations(Object value, int relation, BoolArray result, boolean isAnd) {
 		if (value instanceof SerialBytes) {
@@ -1680,44 +1680,44 @@ public class SerialBytesArray implements IArray {
 			boolean []resultDatas = result.getDatas();
 			
 			if (isAnd) {
-				// ִ&&
+				// 与左侧结果执行&&运算
 				if (relation == Relation.EQUAL) {
-					// Ƿж
+					// 是否等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] &&SerialBytes.compare(datas1[i], datas2[i], value1, value2) != 0) {
 							resultDatas[i] = false;
 						}
 					}
 				} else if (relation == Relation.GREATER) {
-					// Ƿж
+					// 是否大于判断
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) <= 0) {
 							resultDatas[i] = false;
 						}
 					}
 				} else if (relation == Relation.GREATER_EQUAL) {
-					// Ƿڵж
+					// 是否大于等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) < 0) {
 							resultDatas[i] = false;
 						}
 					}
 				} else if (relation == Relation.LESS) {
-					// ǷСж
+					// 是否小于判断
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) >= 0) {
 							resultDatas[i] = false;
 						}
 					}
 				} else if (relation == Relation.LESS_EQUAL) {
-					// ǷСڵж
+					// 是否小于等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) > 0) {
 							resultDatas[i] = false;
 						}
 					}
 				} else if (relation == Relation.NOT_EQUAL) {
-					// Ƿ񲻵ж
+					// 是否不等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) == 0) {
 							resultDatas[i] = false;
@@ -1727,44 +1727,44 @@ public class SerialBytesArray implements IArray {
 					throw new RuntimeException();
 				}
 			} else {
-				// ִ||
+				// 与左侧结果执行||运算
 				if (relation == Relation.EQUAL) {
-					// Ƿж
+					// 是否等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) == 0) {
 							resultDatas[i] = true;
 						}
 					}
 				} else if (relation == Relation.GREATER) {
-					// Ƿж
+					// 是否大于判断
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) > 0) {
 							resultDatas[i] = true;
 						}
 					}
 				} else if (relation == Relation.GREATER_EQUAL) {
-					// Ƿڵж
+					// 是否大于等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) >= 0) {
 							resultDatas[i] = true;
 						}
 					}
 				} else if (relation == Relation.LESS) {
-					// ǷСж
+					// 是否小于判断
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) < 0) {
 							resultDatas[i] = true;
 						}
 					}
 				} else if (relation == Relation.LESS_EQUAL) {
-					// ǷСڵж
+					// 是否小于等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) <= 0) {
 							resultDatas[i] = true;
 						}
 					}
 				} else if (relation == Relation.NOT_EQUAL) {
-					// Ƿ񲻵ж
+					// 是否不等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], value1, value2) != 0) {
 							resultDatas[i] = true;
@@ -1780,37 +1780,37 @@ public class SerialBytesArray implements IArray {
 			boolean []resultDatas = result.getDatas();
 			
 			if (isAnd) {
-				// ִ&&
+				// 与左侧结果执行&&运算
 				if (relation == Relation.EQUAL) {
-					// Ƿж
+					// 是否等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (datas1[i] != NULL || datas2[i] != NULL) {
 							resultDatas[i] = false;
 						}
 					}
 				} else if (relation == Relation.GREATER) {
-					// Ƿж
+					// 是否大于判断
 					for (int i = 1; i <= size; ++i) {
 						if (datas1[i] == NULL && datas2[i] == NULL) {
 							resultDatas[i] = false;
 						}
 					}
 				} else if (relation == Relation.GREATER_EQUAL) {
-					// Ƿڵж
+					// 是否大于等于判断
 				} else if (relation == Relation.LESS) {
-					// ǷСж
+					// 是否小于判断
 					for (int i = 1; i <= size; ++i) {
 						resultDatas[i] = false;
 					}
 				} else if (relation == Relation.LESS_EQUAL) {
-					// ǷСڵж
+					// 是否小于等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (datas1[i] != NULL || datas2[i] != NULL) {
 							resultDatas[i] = false;
 						}
 					}
 				} else if (relation == Relation.NOT_EQUAL) {
-					// Ƿ񲻵ж
+					// 是否不等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (datas1[i] == NULL && datas2[i] == NULL) {
 							resultDatas[i] = false;
@@ -1820,37 +1820,37 @@ public class SerialBytesArray implements IArray {
 					throw new RuntimeException();
 				}
 			} else {
-				// ִ||
+				// 与左侧结果执行||运算
 				if (relation == Relation.EQUAL) {
-					// Ƿж
+					// 是否等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (datas1[i] == NULL && datas2[i] == NULL) {
 							resultDatas[i] = true;
 						}
 					}
 				} else if (relation == Relation.GREATER) {
-					// Ƿж
+					// 是否大于判断
 					for (int i = 1; i <= size; ++i) {
 						if (datas1[i] != NULL || datas2[i] != NULL) {
 							resultDatas[i] = true;
 						}
 					}
 				} else if (relation == Relation.GREATER_EQUAL) {
-					// Ƿڵж
+					// 是否大于等于判断
 					for (int i = 1; i <= size; ++i) {
 						resultDatas[i] = true;
 					}
 				} else if (relation == Relation.LESS) {
-					// ǷСж
+					// 是否小于判断
 				} else if (relation == Relation.LESS_EQUAL) {
-					// ǷСڵж
+					// 是否小于等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (datas1[i] == NULL && datas2[i] == NULL) {
 							resultDatas[i] = true;
 						}
 					}
 				} else if (relation == Relation.NOT_EQUAL) {
-					// Ƿ񲻵ж
+					// 是否不等于判断
 					for (int i = 1; i <= size; ++i) {
 						if (datas1[i] != NULL || datas2[i] != NULL) {
 							resultDatas[i] = true;
@@ -1876,44 +1876,44 @@ public class SerialBytesArray implements IArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) != 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) <= 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) < 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) >= 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) > 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) == 0) {
 						resultDatas[i] = false;
@@ -1923,44 +1923,44 @@ public class SerialBytesArray implements IArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) == 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) > 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) >= 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) < 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) <= 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && SerialBytes.compare(datas1[i], datas2[i], otherDatas1[i], otherDatas2[i]) != 0) {
 						resultDatas[i] = true;
@@ -1978,44 +1978,44 @@ public class SerialBytesArray implements IArray {
 		boolean []resultDatas = result.getDatas();
 		
 		if (isAnd) {
-			// ִ&&
+			// 与左侧结果执行&&运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compareTo(i, d2[i]) != 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compareTo(i, d2[i]) <= 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compareTo(i, d2[i]) < 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compareTo(i, d2[i]) >= 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compareTo(i, d2[i]) > 0) {
 						resultDatas[i] = false;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (resultDatas[i] && compareTo(i, d2[i]) == 0) {
 						resultDatas[i] = false;
@@ -2025,44 +2025,44 @@ public class SerialBytesArray implements IArray {
 				throw new RuntimeException();
 			}
 		} else {
-			// ִ||
+			// 与左侧结果执行||运算
 			if (relation == Relation.EQUAL) {
-				// Ƿж
+				// 是否等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compareTo(i, d2[i]) == 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER) {
-				// Ƿж
+				// 是否大于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compareTo(i, d2[i]) > 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.GREATER_EQUAL) {
-				// Ƿڵж
+				// 是否大于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compareTo(i, d2[i]) >= 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.LESS) {
-				// ǷСж
+				// 是否小于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compareTo(i, d2[i]) < 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.LESS_EQUAL) {
-				// ǷСڵж
+				// 是否小于等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compareTo(i, d2[i]) <= 0) {
 						resultDatas[i] = true;
 					}
 				}
 			} else if (relation == Relation.NOT_EQUAL) {
-				// Ƿ񲻵ж
+				// 是否不等于判断
 				for (int i = 1; i <= size; ++i) {
 					if (!resultDatas[i] && compareTo(i, d2[i]) != 0) {
 						resultDatas[i] = true;
@@ -2075,9 +2075,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ӦĳԱİλ
-	 * @param array Ҳ
-	 * @return λ
+	 * 计算两个数组的相对应的成员的按位与
+	 * @param array 右侧数组
+	 * @return 按位与结果数组
 	 */
 	public IArray bitwiseAnd(IArray array) {
 		MessageManager mm = EngineMessage.get();
@@ -2085,9 +2085,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * 2ԱıȽֵ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 计算数组的2个成员的比较值
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public int memberCompare(int index1, int index2) {
@@ -2095,9 +2095,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жԱǷ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 判断数组的两个成员是否相等
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public boolean isMemberEquals(int index1, int index2) {
@@ -2105,9 +2105,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ȽĴС
-	 * @param array Ҳ
-	 * @return 1ǰ0ȣ-1ǰС
+	 * 比较两个数组的大小
+	 * @param array 右侧数组
+	 * @return 1：当前数组大，0：两个数组相等，-1：当前数组小
 	 */
 	public int compareTo(IArray array) {
 		int size1 = this.size;
@@ -2179,16 +2179,16 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ȡָԱĹϣֵ
-	 * @param index Ա1ʼ
-	 * @return ָԱĹϣֵ
+	 * 取指定成员的哈希值
+	 * @param index 成员索引，从1开始计数
+	 * @return 指定成员的哈希值
 	 */
 	public int hashCode(int index) {
 		return HashUtil.hashCode(datas1[index] + datas2[index]);
 	}
 
 	/**
-	 * Ա
+	 * 求成员和
 	 * @return
 	 */
 	public Object sum() {
@@ -2196,7 +2196,7 @@ public class SerialBytesArray implements IArray {
 	}
 	
 	/**
-	 * ƽֵ
+	 * 求平均值
 	 * @return
 	 */
 	public Object average() {
@@ -2204,7 +2204,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * õĳԱ
+	 * 得到最大的成员
 	 * @return
 	 */
 	public Object max() {
@@ -2233,7 +2233,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * õСĳԱ
+	 * 得到最小的成员
 	 * @return
 	 */
 	public Object min() {
@@ -2272,9 +2272,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ָڵ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 保留指定区间内的数据
+	 * @param start 起始位置（包含）
+	 * @param end 结束位置（包含）
 	 */
 	public void reserve(int start, int end) {
 		int newSize = end - start + 1;
@@ -2284,8 +2284,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ѳԱתɶ鷵
-	 * @return 
+	 * 把成员转成对象数组返回
+	 * @return 对象数组
 	 */
 	public Object[] toArray() {
 		int size = this.size;
@@ -2303,8 +2303,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ѳԱָ
-	 * @param result ڴųԱ
+	 * 把成员填到指定的数组
+	 * @param result 用于存放成员的数组
 	 */
 	public void toArray(Object []result) {
 		int size = this.size;
@@ -2321,9 +2321,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ָλò
-	 * @param pos λã
-	 * @return غ벿Ԫعɵ
+	 * 把数组从指定位置拆成两个数组
+	 * @param pos 位置，包含
+	 * @return 返回后半部分元素构成的数组
 	 */
 	public IArray split(int pos) {
 		long []datas1 = this.datas1;
@@ -2342,9 +2342,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ָԪط
-	 * @param from ʼλã
-	 * @param to λã
+	 * 把指定区间元素分离出来组成新数组
+	 * @param from 起始位置，包含
+	 * @param to 结束位置，包含
 	 * @return
 	 */
 	public IArray split(int from, int to) {
@@ -2366,7 +2366,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ʹԪ
+	 * 调整容量，使其与元素数相等
 	 */
 	public void trimToSize() {
 		int newLen = size + 1;
@@ -2381,8 +2381,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ȡʶȡֵΪжӦݣ
-	 * @param signArray ʶ
+	 * 取出标识数组取值为真的行对应的数据，组成新数组
+	 * @param signArray 标识数组
 	 * @return IArray
 	 */
 	public IArray select(IArray signArray) {
@@ -2430,11 +2430,11 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жָԪǷͬ
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return trueͬfalseͬ
+	 * 判断两个数组的指定元素是否相同
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return true：相同，false：不相同
 	 */
 	public boolean isEquals(int curIndex, IArray array, int index) {
 		if (array instanceof SerialBytesArray) {
@@ -2446,10 +2446,10 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жָԪǷֵ
-	 * @param curIndex Ԫ1ʼ
-	 * @param value ֵ
-	 * @return trueȣfalse
+	 * 判断数组的指定元素是否与给定值相等
+	 * @param curIndex 数组元素索引，从1开始计数
+	 * @param value 值
+	 * @return true：相等，false：不相等
 	 */
 	public boolean isEquals(int curIndex, Object value) {
 		if (value instanceof SerialBytes) {
@@ -2463,11 +2463,11 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * жָԪصĴС
-	 * @param curIndex ǰԪص
-	 * @param array ҪȽϵ
-	 * @param index ҪȽϵԪص
-	 * @return СڣС0ڣ0ڣ0
+	 * 判断两个数组的指定元素的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param array 要比较的数组
+	 * @param index 要比较的数组的元素的索引
+	 * @return 小于：小于0，等于：0，大于：大于0
 	 */
 	public int compareTo(int curIndex, IArray array, int index) {
 		if (array instanceof SerialBytesArray) {
@@ -2479,9 +2479,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ȽָԪֵĴС
-	 * @param curIndex ǰԪص
-	 * @param value ҪȽϵֵ
+	 * 比较数组的指定元素与给定值的大小
+	 * @param curIndex 当前数组的元素的索引
+	 * @param value 要比较的值
 	 * @return
 	 */
 	public int compareTo(int curIndex, Object value) {
@@ -2498,7 +2498,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * Ԫؽ
+	 * 对数组的元素进行排序
 	 */
 	public void sort() {
 		SerialBytes []sbs = new SerialBytes[size];
@@ -2522,8 +2522,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * Ԫؽ
-	 * @param comparator Ƚ
+	 * 对数组的元素进行排序
+	 * @param comparator 比较器
 	 */
 	public void sort(Comparator<Object> comparator) {
 		SerialBytes []sbs = new SerialBytes[size];
@@ -2547,7 +2547,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * Ƿм¼
+	 * 返回数组中是否含有记录
 	 * @return boolean
 	 */
 	public boolean hasRecord() {
@@ -2555,16 +2555,16 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * Ƿǣ
-	 * @param isPure trueǷǴ
-	 * @return boolean trueǣfalse
+	 * 返回是否是（纯）排列
+	 * @param isPure true：检查是否是纯排列
+	 * @return boolean true：是，false：不是
 	 */
 	public boolean isPmt(boolean isPure) {
 		return false;
 	}
 
 	/**
-	 * ķת
+	 * 返回数组的反转数组
 	 * @return IArray
 	 */
 	public IArray rvs() {
@@ -2583,10 +2583,10 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ԪشСȡǰcountλ
-	 * @param count countС0ȡ|count|λ
-	 * @param isAll countΪ1ʱisAllȡֵΪtrueȡһԪصλãֻȡһ
-	 * @param isLast ǷӺʼ
+	 * 对数组元素从小到大做排名，取前count名的位置
+	 * @param count 如果count小于0则取后|count|名的位置
+	 * @param isAll count为正负1时，如果isAll取值为true则取所有排名第一的元素的位置，否则只取一个
+	 * @param isLast 是否从后开始找
 	 * @param ignoreNull
 	 * @return IntArray
 	 */
@@ -2601,7 +2601,7 @@ public class SerialBytesArray implements IArray {
 		
 		if (ignoreNull) {
 			if (count == 1) {
-				// ȡСֵλ
+				// 取最小值的位置
 				long minValue1 = NULL;
 				long minValue2 = NULL;
 				
@@ -2688,7 +2688,7 @@ public class SerialBytesArray implements IArray {
 					return result;
 				}
 			} else if (count > 1) {
-				// ȡСcountԪصλ
+				// 取最小的count个元素的位置
 				int next = count + 1;
 				SerialBytesArray valueArray = new SerialBytesArray(next);
 				IntArray posArray = new IntArray(next);
@@ -2712,7 +2712,7 @@ public class SerialBytesArray implements IArray {
 				
 				return posArray;
 			} else if (count == -1) {
-				// ȡֵλ
+				// 取最大值的位置
 				long maxValue1 = NULL;
 				long maxValue2 = NULL;
 
@@ -2799,7 +2799,7 @@ public class SerialBytesArray implements IArray {
 					return result;
 				}
 			} else if (count < -1) {
-				// ȡcountԪصλ
+				// 取最大的count个元素的位置
 				count = -count;
 				int next = count + 1;
 				SerialBytesArray valueArray = new SerialBytesArray(next);
@@ -2829,7 +2829,7 @@ public class SerialBytesArray implements IArray {
 			}
 		} else {
 			if (count == 1) {
-				// ȡСֵλ
+				// 取最小值的位置
 				if (isAll) {
 					IntArray result = new IntArray(8);
 					result.addInt(1);
@@ -2883,7 +2883,7 @@ public class SerialBytesArray implements IArray {
 					return result;
 				}
 			} else if (count > 1) {
-				// ȡСcountԪصλ
+				// 取最小的count个元素的位置
 				int next = count + 1;
 				SerialBytesArray valueArray = new SerialBytesArray(next);
 				IntArray posArray = new IntArray(next);
@@ -2906,7 +2906,7 @@ public class SerialBytesArray implements IArray {
 				
 				return posArray;
 			} else if (count == -1) {
-				// ȡֵλ
+				// 取最大值的位置
 				if (isAll) {
 					IntArray result = new IntArray(8);
 					long maxValue1 = datas1[1];
@@ -2960,7 +2960,7 @@ public class SerialBytesArray implements IArray {
 					return result;
 				}
 			} else if (count < -1) {
-				// ȡcountԪصλ
+				// 取最大的count个元素的位置
 				count = -count;
 				int next = count + 1;
 				SerialBytesArray valueArray = new SerialBytesArray(next);
@@ -2990,7 +2990,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ѵǰתɶ飬ǰǶ򷵻鱾
+	 * 把当前数组转成对象数组，如果当前数组是对象数组则返回数组本身
 	 * @return ObjectArray
 	 */
 	public ObjectArray toObjectArray() {
@@ -3009,7 +3009,7 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * Ѷתɴ飬ת׳쳣
+	 * 把对象数组转成纯类型数组，不能转则抛出异常
 	 * @return IArray
 	 */
 	public IArray toPureArray() {
@@ -3017,8 +3017,8 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * л
-	 * @param refOrigin ԴУ
+	 * 保留数组数据用于生成序列或序表
+	 * @param refOrigin 引用源列，不复制数据
 	 * @return
 	 */
 	public IArray reserve(boolean refOrigin) {
@@ -3033,9 +3033,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ѡԱ飬ӵǰѡ־Ϊtrueģotherѡ־Ϊfalse
-	 * @param signArray ־
-	 * @param other һ
+	 * 根据条件从两个数组选出成员组成新数组，从当前数组选出标志为true的，从other数组选出标志为false的
+	 * @param signArray 标志数组
+	 * @param other 另一个数组
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, IArray other) {
@@ -3095,9 +3095,9 @@ public class SerialBytesArray implements IArray {
 	}
 
 	/**
-	 * ӵǰѡ־Ϊtrueģ־Ϊfalseóvalue
-	 * @param signArray ־
-	 * @param other ֵ
+	 * 根据条件从当前数组选出标志为true的，标志为false的置成value
+	 * @param signArray 标志数组
+	 * @param other 值
 	 * @return IArray
 	 */
 	public IArray combine(IArray signArray, Object value) {
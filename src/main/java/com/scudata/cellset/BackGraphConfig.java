@@ -30,7 +30,7 @@ import com.scudata.common.Logger;
 import com.scudata.common.StringUtils;
 
 /**
- * ͼ
+ * 背景图配置
  * 
  * @author Joancy
  *
@@ -39,34 +39,34 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 		IRecord {
 	private static final long serialVersionUID = 1L;
 
-	/** ͼͣURL */
+	/** 背景图配置类型：URL */
 	public final static byte TYPE_URL = (byte) 0;
-	/** ͼͣʽ */
+	/** 背景图配置类型：表达式 */
 	public final static byte TYPE_EXP = (byte) 1;
 
-	/** ͼʾʽʾ */
+	/** 背景图显示方式：显示 */
 	public final static byte DISP_NONE = (byte) 10;
-	/** ͼʾʽÿҳʾ */
+	/** 背景图显示方式：每页显示 */
 	public final static byte DISP_PER_PAGE = (byte) 11;
 
-	public static final byte SOURCE_NONE = 0; // 
-	public static final byte SOURCE_PICTURE = 1; // ͼƬ
-	public static final byte SOURCE_TEXT = 2; // ,ˮӡͼ
+	public static final byte SOURCE_NONE = 0; // 无
+	public static final byte SOURCE_PICTURE = 1; // 图片
+	public static final byte SOURCE_TEXT = 2; // 文字,水印背景图
 
-	public static final byte MODE_NONE = 0; // ȱʡ
-	public static final byte MODE_FILL = 1; // 
-	public static final byte MODE_TILE = 2; // ƽ
+	public static final byte MODE_NONE = 0; // 缺省
+	public static final byte MODE_FILL = 1; // 填充
+	public static final byte MODE_TILE = 2; // 平铺
 
-	public static final byte TEXT_NORMAL = 0; // 
-	public static final byte TEXT_TILT = 1; // б
+	public static final byte TEXT_NORMAL = 0; // 正常
+	public static final byte TEXT_TILT = 1; // 倾斜
 
 	private byte type = TYPE_URL;
 	private String value;
 	private byte disp = DISP_PER_PAGE;
 
-	// ͼƬķʽ
+	// 生成图片的方式
 	private byte imgSource = SOURCE_PICTURE;
-	// 
+	// 布局
 	private byte mode = MODE_NONE;
 	private String fontName = "Dialog";
 	private int fontSize = 12;
@@ -80,20 +80,20 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	private transient String waterMark = null;
 
 	/**
-	 * ȱʡ캯
+	 * 缺省构造函数
 	 */
 	public BackGraphConfig() {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 *
 	 * @param type
-	 *            ָͣȡֵΪTYPE_URLTYPE_EXP
+	 *            指定配置类型，可取值为TYPE_URL、TYPE_EXP
 	 * @param value
-	 *            typeΪTYPE_URLʱ˲ʾURL ΪTYPE_EXPʱ˲ʾʽ
+	 *            参数type为TYPE_URL时此参数表示URL， 为TYPE_EXP时此参数表示表达式串
 	 * @param dispMode
-	 *            ʾģʽȡֵΪDISP_DEFAULTDISP_PER_PAGE
+	 *            显示模式，可取值为DISP_DEFAULT、DISP_PER_PAGE
 	 */
 	public BackGraphConfig(byte type, String value, byte dispMode) {
 		this.type = type;
@@ -102,7 +102,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ñͼƬ TYPE_URLTYPE_EXP
+	 * 设置背景图片类型 TYPE_URL，TYPE_EXP
 	 * 
 	 * @param type
 	 *            byte
@@ -112,7 +112,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ñͼƬ
+	 * 获得背景图片类型
 	 * 
 	 * @return byte
 	 */
@@ -121,7 +121,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ULRʽtypeΪTYPE_URLʱ˲ʾURLΪTYPE_EXPʱ˲ʾʽ
+	 * 设置ULR或表达式串，参数type为TYPE_URL时此参数表示URL，为TYPE_EXP时此参数表示表达式串
 	 * 
 	 * @param urlOrClassName
 	 *            String
@@ -132,7 +132,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ȡULRʽ
+	 * 取得ULR或表达式串
 	 * 
 	 * @return String
 	 */
@@ -141,7 +141,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ʾģʽ DISP_DEFAULTDISP_PER_PAGE
+	 * 设置显示模式 DISP_DEFAULT，DISP_PER_PAGE
 	 * 
 	 * @param dispMode
 	 *            byte
@@ -151,7 +151,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ȡʾʽ
+	 * 取得显示方式
 	 * 
 	 * @return byte
 	 */
@@ -160,14 +160,14 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ȡͼ
+	 * 取背景图
 	 */
 	public byte[] getImageBytes() {
 		return this.imageBytes;
 	}
 
 	/**
-	 * ݿߣձͼãɱͼ
+	 * 根据宽高，按照背景图配置，生成背景图
 	 * 
 	 * @param w
 	 * @param h
@@ -178,22 +178,22 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	private int imageWidth = -1, imageHeight = -1;
-	private int lastW = -1, lastH = -1; // Ƴߴ磬ûscale
+	private int lastW = -1, lastH = -1; // 这是设计尺寸，没有scale的
 	private Image lastImage = null;
 
 	/**
-	 * ÷ֱӽͼgӶı
-	 * @param g PDFߴӡͼ豸
-	 * @param w 
-	 * @param h ߶
-	 * @param scale Ʊ
+	 * 该方法用于直接将背景图往g输出，从而文本绘制清晰
+	 * @param g 导出PDF或者打印的图形设备
+	 * @param w 宽度
+	 * @param h 高度
+	 * @param scale 绘制比例
 	 */
 	public void drawImage(Graphics g, int w, int h, float scale) {
 		drawImage(g, w, h, scale, 0, 0, w, h);
 	}
 
 	/**
-	 * ˻x1,y1,x2,y2
+	 * 增加了绘制区域x1,y1,x2,y2
 	 * @param g
 	 * @param w
 	 * @param h
@@ -212,12 +212,12 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 			int y1, int x2, int y2, int dx, int dy) {
 		switch (imgSource) {
 		case SOURCE_PICTURE:
-			// ImageIconΪBufferedImageóߴImage
-			// ͼƬߴ緢仯ʱ»ȡͼƬ
+			// 将ImageIcon改为BufferedImage，并缓存调整好尺寸的Image
+			// 图片尺寸发生变化时，重新获取图片
 			boolean graphChanged = lastImage == null || w != lastW
 					|| h != lastH;
 			int iw,
-			ih;// ͼƬߴ
+			ih;// 图片尺寸
 			Image image;
 			if (graphChanged) {
 				BufferedImage bimage = null;
@@ -252,12 +252,12 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 				iw = imageWidth;
 				ih = imageHeight;
 			}
-			// setClipcutImageٻʱ wunan 2022-09-22
+			// 用setClip替代cutImage来减少绘制时间 wunan 2022-09-22
 			Shape oldClip = g.getClip();
 			switch (mode) {
 			case MODE_NONE:
 				try {
-					g.setClip(x1, y1, x2 - x1, y2 - y1); // ͼƬܳƷΧ
+					g.setClip(x1, y1, x2 - x1, y2 - y1); // 图片不能超出绘制范围
 					g.drawImage(image, dx, dy, iw, ih, null);
 				} finally {
 					g.setClip(oldClip);
@@ -267,7 +267,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 				break;
 			case MODE_FILL:
 				try {
-					g.setClip(x1, y1, x2 - x1, y2 - y1); // ͼƬܳƷΧ
+					g.setClip(x1, y1, x2 - x1, y2 - y1); // 图片不能超出绘制范围
 					g.drawImage(image, dx, dy, w, h, null);
 				} finally {
 					g.setClip(oldClip);
@@ -277,13 +277,13 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 				try {
 					int x = dx, y = dy;
 					while (x < x2) {
-						if (x + iw <= x1) { // ûеƷΧ
+						if (x + iw <= x1) { // 没有到绘制范围
 							x += iw;
 							continue;
 						}
 						y = dy;
 						while (y < y2) {
-							if (y + ih <= y1) { // ûеƷΧ
+							if (y + ih <= y1) { // 没有到绘制范围
 								y += ih;
 								continue;
 							}
@@ -305,10 +305,10 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 		case SOURCE_TEXT:
 			if (!StringUtils.isValidString(waterMark))
 				return;
-			// ֢֪ԭsetCompositeᵼ
-			// 1ӡȱʧ
-			// 2itextûʵ֣PDFʱûв͸״̬
-			// 취͸Ϊ100Ҳ͸ʱsetCompositeͬʱɫΪǳɫ
+			// 疑难杂症：不知道的原因，设置了setComposite方法会导致
+			// 1：打印内容缺失
+			// 2：itext没有实现，导出PDF时，没有不透明状态
+			// 解决办法：将透明度设为100，也即不透明，此时不调用setComposite，同时设置字体颜色为浅色
 
 			Composite old = setTransparent((Graphics2D) g,
 					textTransparency / 100f);
@@ -350,11 +350,11 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ǰͼΪͼƬ
-	 * @param w 
-	 * @param h ߶
-	 * @param scale Ʊ
-	 * @return ͼ
+	 * 将当前背景图计算为图片对象
+	 * @param w 宽度
+	 * @param h 高度
+	 * @param scale 绘制比例
+	 * @return 图像对象
 	 */
 	public Image getBackImage(int w, int h, float scale) {
 		if (imgSource == SOURCE_NONE) {
@@ -377,9 +377,9 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ñͼݣһͼƬҪˢ£ûҪÿζػʱ
-	 * ߽
-	 * @param b ͼ
+	 * 设置背景图数据，一般用于图片需要不断刷新，而又没必要每次都重画时
+	 * 用于提高界面绘制性能
+	 * @param b 图像数据
 	 */
 	public void setImageBytes(byte[] b) {
 		this.imageBytes = b;
@@ -387,16 +387,16 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ȡˮӡ
-	 * @return ˮӡ
+	 * 获取计算过后的水印文字
+	 * @return 水印文字
 	 */
 	public String getWaterMark() {
 		return waterMark;
 	}
 
 	/**
-	 * üˮӡ֣߻ͼ
-	 * @param wm ˮӡ
+	 * 设置计算后的水印文字，用于提高绘图性能
+	 * @param wm 水印文字
 	 */
 	public void setWaterMark(String wm) {
 		this.waterMark = wm;
@@ -404,125 +404,125 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ȡˮӡ߱ͼʽ
-	 * ַʽϽǣ 䣬ƽ
-	 * ֵΪ BackGraphConfig.MODE_???
-	 * @return ʽ
+	 * 获取水印或者背景图的填充样式
+	 * 三种方式，左上角， 拉伸填充，平铺
+	 * 值为： BackGraphConfig.MODE_???
+	 * @return 填充样式
 	 */
 	public byte getMode() {
 		return mode;
 	}
 
 	/**
-	 * ʽ
-	 * @param m ʽ
+	 * 设置填充样式
+	 * @param m 样式
 	 */
 	public void setMode(byte m) {
 		mode = m;
 	}
 
 	/**
-	 * ȡˮӡıƽʱı
-	 * @return ֵ
+	 * 获取水印文本平铺时的文本间隔
+	 * @return 间隔值
 	 */
 	public int getTextGap() {
 		return textGap;
 	}
 
 	/**
-	 * ˮӡıƽʱı
-	 * @param g ֵ
+	 * 设置水印文本的平铺时的文本间隔
+	 * @param g 间隔值
 	 */
 	public void setTextGap(int g) {
 		textGap = g;
 	}
 
 	/**
-	 * ˮӡı͸ȣֵΪ0100
-	 * @param tran ͸ֵ
+	 * 设置水印文本的透明度，值为0到100
+	 * @param tran 透明值
 	 */
 	public void setTransparency(int tran) {
 		textTransparency = tran;
 	}
 
 	/**
-	 * ȡˮӡı͸
-	 * @return ͸ֵ
+	 * 获取水印文本的透明度
+	 * @return 透明值
 	 */
 	public int getTransparency() {
 		return textTransparency;
 	}
 
 	/**
-	 * ȡͼԴ
-	 * ԴͼɣԼˮӡ
-	 * ֵΪ BackGraphConfig.SOURCE_???
-	 * @return Դʽ
+	 * 获取背景图的生成来源
+	 * 有两种来源，用图形生成，以及水印文字生成
+	 * 值为： BackGraphConfig.SOURCE_???
+	 * @return 来源样式
 	 */
 	public byte getImageSource() {
 		return imgSource;
 	}
 
 	/**
-	 * ñͼԴʽ
-	 * @param src ʽֵ
+	 * 设置背景图的来源样式
+	 * @param src 样式值
 	 */
 	public void setImageSource(byte src) {
 		imgSource = src;
 	}
 
 	/**
-	 * ȡˮӡֵ
-	 * @return 
+	 * 获取水印文字的字体名称
+	 * @return 字体名
 	 */
 	public String getFontName() {
 		return fontName;
 	}
 
 	/**
-	 * ˮӡֵ
-	 * @param fn 
+	 * 设置水印文字的字体名
+	 * @param fn 字体名
 	 */
 	public void setFontName(String fn) {
 		fontName = fn;
 	}
 
 	/**
-	 * ȡˮӡֵֺ
-	 * @return ֺ
+	 * 获取水印文字的字号
+	 * @return 字号
 	 */
 	public int getFontSize() {
 		return fontSize;
 	}
 
 	/**
-	 * ˮӡֵֺ
-	 * @param size ֺ
+	 * 设置水印文字的字号
+	 * @param size 字号
 	 */
 	public void setFontSize(int size) {
 		fontSize = size;
 	}
 
 	/**
-	 * ȡˮӡֵɫֵ
-	 * @return ɫֵ
+	 * 获取水印文字的颜色值
+	 * @return 颜色值
 	 */
 	public int getTextColor() {
 		return textColor;
 	}
 
 	/**
-	 * ˮӡֵɫ
-	 * @param c ɫֵ
+	 * 设置水印文字的颜色
+	 * @param c 颜色值
 	 */
 	public void setTextColor(int c) {
 		textColor = c;
 	}
 
 	/**
-	 * л
+	 * 序列化输出本类
 	 * 
-	 * @param out 
+	 * @param out 对象输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -531,7 +531,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 		out.writeObject(value);
 		out.writeByte(disp);
 		out.writeObject(imageBytes);
-		// 汾2 Ӳģʽ
+		// 版本2， 增加布局模式
 		out.writeByte(imgSource);
 		out.writeByte(mode);
 		out.writeObject(fontName);
@@ -542,9 +542,9 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * л뱾
+	 * 序列化输入本类
 	 * 
-	 * @param in 
+	 * @param in 对象输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -569,7 +569,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * л
+	 * 序列化输出本类
 	 * 
 	 * @throws IOException
 	 */
@@ -592,7 +592,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * л뱾
+	 * 序列化输入本类
 	 * 
 	 * @param in
 	 *            byte[]input
@@ -620,7 +620,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ¡
+	 * 克隆本类
 	 * 
 	 * @return Object
 	 */
@@ -643,10 +643,10 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ͼ͸
-	 * @param g ͼ豸
-	 * @param transparent ͸ͼΧ0100 100ʱ͸0Ϊȫ͸
-	 * @return ɵCompositeڵø÷Ļָ
+	 * 设置图形透明度
+	 * @param g 图形设备
+	 * @param transparent 透明图，范围0到100， 100时不透明，0为全透明
+	 * @return 旧的Composite，用于调用该方法后的恢复
 	 */
 	public static Composite setTransparent(Graphics2D g, float transparent) {
 		if (transparent >= 1) {
@@ -661,11 +661,11 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ȡıƵռÿռ
-	 * @param textFont 
-	 * @param textSize ִС
-	 * @param text ıֵ
-	 * @return ıռ
+	 * 获取文本绘制的占用空间
+	 * @param textFont 文字字体
+	 * @param textSize 文字大小
+	 * @param text 文本值
+	 * @return 宽高描述的文本空间
 	 */
 	public static Rectangle getTextRect(String textFont, int textSize,
 			String text) {
@@ -679,11 +679,11 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * 
-	 * @param fontName 
-	 * @param fontStyle ı
-	 * @param fontSize ֺ
-	 * @return 
+	 * 构造字体对象
+	 * @param fontName 字体名称
+	 * @param fontStyle 文本风格
+	 * @param fontSize 字号
+	 * @return 字体对象
 	 */
 	public synchronized static Font getFont(String fontName, int fontStyle,
 			int fontSize) {
@@ -696,11 +696,11 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ȡıˮƽʱĿռ
-	 * @param text ıֵ
-	 * @param g ͼ豸
-	 * @param font 
-	 * @return ռÿռ
+	 * 获取文本的水平正常输出时的空间
+	 * @param text 文本值
+	 * @param g 图形设备
+	 * @param font 字
+	 * @return 占用空间
 	 */
 	public static Rectangle getHorizonArea(String text, java.awt.Graphics g,
 			Font font) {
@@ -714,12 +714,12 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ȡıתռÿռ
-	 * @param text ı
-	 * @param g ͼ豸
-	 * @param angle תǶ
-	 * @param font 
-	 * @return ռÿռ
+	 * 获取文本旋转输出后的占用空间
+	 * @param text 文本
+	 * @param g 图形设备
+	 * @param angle 旋转角度
+	 * @param font 字体
+	 * @return 占用空间
 	 */
 	public static Rectangle getRotationArea(String text, java.awt.Graphics g,
 			int angle, Font font) {
@@ -745,12 +745,12 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * ԶתǶȣطıռÿռ
-	 * @param text ı
-	 * @param g ͼ豸
-	 * @param angle תǶ
-	 * @param font 
-	 * @return ռÿռ
+	 * 自动根据旋转角度，调用相关方法计算文本的占用空间
+	 * @param text 文本
+	 * @param g 图形设备
+	 * @param angle 旋转角度
+	 * @param font 字体
+	 * @return 占用空间
 	 */
 	public static Rectangle getTextSize(String text, java.awt.Graphics g,
 			int angle, Font font) {
@@ -773,18 +773,18 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	}
 
 	/**
-	 * isImageʱҪ任ΪϽǣ ıʱ任Ϊ½ǣΪg½ǻı ϽǻͼΡ
+	 * isImage时，要变换为左上角， 文本时变换为左下角；因为g在左下角绘制文本， 左上角绘制图形。
 	 * @param posDesc
 	 * @return
 	 */
 	public static Point getRealDrawPoint(Rectangle posDesc) {
 		Rectangle rect = posDesc;
-		// ͼĵ
+		// 绘图中心点
 		int xloc = rect.x;
 		int yloc = rect.y;
 
 		yloc += rect.height / 2;
-		// οм䣬Ҫ½x
+		// 所给参考点在中间，需要求到左下角x坐标
 		xloc -= rect.width / 2;
 		return new Point(xloc, yloc);
 	}
@@ -800,14 +800,14 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 	// }
 
 	/**
-	 * ָλôı
-	 * @param txt ı
-	 * @param dx 
-	 * @param dy 
-	 * @param font 
-	 * @param c ɫ
-	 * @param angle תǶ
-	 * @param g ͼ豸
+	 * 在指定位置处输出文本
+	 * @param txt 文本
+	 * @param dx 横坐标
+	 * @param dy 纵坐标
+	 * @param font 字体
+	 * @param c 颜色
+	 * @param angle 旋转角度
+	 * @param g 图形设备
 	 */
 	public static void drawText(String txt, double dx, double dy, Font font,
 			Color c, int angle, Graphics2D g) {
@@ -817,7 +817,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 		int x = (int) dx;
 		int y = (int) dy;
 
-		// ֲص
+		// 文字不重叠
 		Rectangle rect = getTextSize(txt, g, angle, font);
 		rect.x = x;
 		rect.y = y;
@@ -831,7 +831,7 @@ public class BackGraphConfig implements Externalizable, ICloneable, Cloneable,
 
 		Utils.setGraphAntiAliasingOff(g);
 
-		// 
+		// 非竖排文字
 		if (angle != 0) {
 			AffineTransform at = g.getTransform();
 			Rectangle rect2 = getTextSize(txt, g, 0, font);
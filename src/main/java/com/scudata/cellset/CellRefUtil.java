@@ -5,32 +5,32 @@ import com.scudata.common.Sentence;
 import com.scudata.dm.KeyWord;
 
 public final class CellRefUtil {
-	// ĵԪñʶ
+	// 错误的单元格引用标识
 	public static final String ERRORREF = "#REF!";
 
 	/**
-	 * жַǷз
-	 * @param c ַ
-	 * @return trueǣfalse
+	 * 判断字符是否是行符号
+	 * @param c 字符
+	 * @return true：是，false：不是
 	 */
 	public static boolean isRowChar(char c) {
 		return c >= '0' && c <= '9';
 	}
 
 	/**
-	 * жַǷз
-	 * @param c ַ
-	 * @return trueǣfalse
+	 * 判断字符是否是列符号
+	 * @param c 字符
+	 * @return true：是，false：不是
 	 */
 	public static boolean isColChar(char c) {
 		return c >= 'A' && c <= 'Z';
 	}
 
 	/**
-	 * жַָλõǰһַǷ'.'
-	 * @param str ʽַ
-	 * @param pos λ
-	 * @return trueǣfalse
+	 * 判断字符串指定位置的前一个字符是否是'.'
+	 * @param str 表达式字符串
+	 * @param pos 位置
+	 * @return true：是，false：不是
 	 */
 	public static boolean isPrevDot(String str, int pos) {
 		for (pos = pos - 1; pos >= 0; --pos) {
@@ -43,17 +43,17 @@ public final class CellRefUtil {
 	}
 
 	/**
-	 * ıõĵԪк
-	 * @param cellRow Դк
-	 * @param rowBase ڴнӻɾ
-	 * @param rowIncrement ӻɾ
-	 * @param oldRowCount ԭ
-	 * @return 任nullʾøɾ
+	 * 改变所引用的单元格的行号
+	 * @param cellRow 源行号
+	 * @param rowBase 在此行进行增加或者删除行
+	 * @param rowIncrement 增加或者删除的行数
+	 * @param oldRowCount 原来的总行数
+	 * @return 变换后的行名，或者null表示引用格被删除
 	 */
 	public static String changeRow(int cellRow, int rowBase, int rowIncrement, int oldRowCount) {
 		if (rowBase != -1) {
 			if (rowIncrement < 0) {
-				//бɾʽ
+				//引用行被删除，冻结表达式
 				if (cellRow >= rowBase && cellRow <= (rowBase - rowIncrement - 1)) {
 					return null;
 				}
@@ -67,17 +67,17 @@ public final class CellRefUtil {
 	}
 
 	/**
-	 * ıõĵԪк
-	 * @param cellCol Դк
-	 * @param colBase ڴнӻɾ
-	 * @param colIncrement ӻɾ
-	 * @param oldColCount ԭ
-	 * @return 任nullʾøɾ
+	 * 改变所引用的单元格的列号
+	 * @param cellCol 源列号
+	 * @param colBase 在此列进行增加或者删除列
+	 * @param colIncrement 增加或者删除的列数
+	 * @param oldColCount 原来的总列数
+	 * @return 变换后的列名，或者null表示引用格被删除
 	 */
 	public static String changeCol(int cellCol, int colBase, int colIncrement, int oldColCount) {
 		if (colBase != -1) {
 			if (colIncrement < 0) {
-				//бɾʽ
+				//引用列被删除，冻结表达式
 				if (cellCol >= colBase && cellCol <= (colBase - colIncrement - 1)) {
 					return null;
 				}
@@ -91,11 +91,11 @@ public final class CellRefUtil {
 	}
 
 	/**
-	 * ıõĵԪкţڴһƱʽһ񣬱ʽõĸҪԴĿλ
-	 * @param cellRow Դк
-	 * @param rowIncrement ӵıʾɾ
-	 * @param rowCount 
-	 * @return 任nullʾ
+	 * 改变所引用的单元格的行号，用于从一个格复制表达式到另一个格，表达式里引用的格要加上源格到目标格的相对位移
+	 * @param cellRow 源行号
+	 * @param rowIncrement 增加的行数，负的表示删除的行数
+	 * @param rowCount 总行数
+	 * @return 变换后的行名，或者null表示格出界
 	 */
 	public static String changeRow(int cellRow, int rowIncrement, int rowCount) {
 		cellRow += rowIncrement;
@@ -105,11 +105,11 @@ public final class CellRefUtil {
 	}
 
 	/**
-	 * ıõĵԪкţڴһƱʽһ񣬱ʽõĸҪԴĿλ
-	 * @param cellCol Դк
-	 * @param colIncrement ӵıʾɾ
-	 * @param colCount 
-	 * @return 任nullʾ
+	 * 改变所引用的单元格的列号，用于从一个格复制表达式到另一个格，表达式里引用的格要加上源格到目标格的相对位移
+	 * @param cellCol 源列号
+	 * @param colIncrement 增加的列数，负的表示删除的列数
+	 * @param colCount 总列数
+	 * @return 变换后的列名，或者null表示格出界
 	 */
 	public static String changeCol(int cellCol, int colIncrement, int colCount) {
 		if (cellCol <= 0 || cellCol > colCount) return null;
@@ -121,23 +121,23 @@ public final class CellRefUtil {
 	}
 
 	/**
-	 * 롢ɾʱԱʽеĵԪýбǨ
-	 * @param str ʽ
-	 * @param rowBase ڵ
-	 * @param rowIncrement ɾ
-	 * @param colBase ڵ
-	 * @param colIncrement ɾ
-	 * @param oldRowCount ԭ
-	 * @param oldColCount ԭ
-	 * @param error õĵԪɾerror[0]Ϊtrue
-	 * @return Ǩıʽ
+	 * 插入、删除行列时对表达式中的单元格引用进行变迁
+	 * @param str 表达式
+	 * @param rowBase 操作所在的行
+	 * @param rowIncrement 插入或者删除的行数
+	 * @param colBase 操作所在的列
+	 * @param colIncrement 插入或者删除的列数
+	 * @param oldRowCount 原来的总行数
+	 * @param oldColCount 原来的总列数
+	 * @param error 如果引用的单元格被删除则置error[0]为true
+	 * @return 变迁后的表达式
 	 */
 	public static String relativeRegulateString(String str, int rowBase, int rowIncrement,
 										  int colBase, int colIncrement,
 										  int oldRowCount, int oldColCount, boolean []error) {
 		error[0] = false;
 		if (str == null || str.length() == 0 || str.startsWith(ERRORREF)) {
-			//ĵԪ񲻴
+			//冻结或错误的单元格不处理
 			return str;
 		}
 
@@ -145,7 +145,7 @@ public final class CellRefUtil {
 		int len = str.length();
 		for (int idx = 0; idx < len; ) {
 			char ch = str.charAt(idx);
-			if (ch == '\'' || ch == '\"') { // ַ
+			if (ch == '\'' || ch == '\"') { // 跳过字符串
 				int tmp = Sentence.scanQuotation(str, idx);
 				if (tmp < 0) {
 					if (strNew != null) strNew.append(str.substring(idx));
@@ -166,8 +166,8 @@ public final class CellRefUtil {
 					continue;
 				}
 
-				int macroIndex = -1; // A$23$
-				int numIndex = -1; // ֵ
+				int macroIndex = -1; // A$23中$的索引
+				int numIndex = -1; // 数字的索引
 				
 				for (int i = idx + 1; i < last; ++i) {
 					char tmp = str.charAt(i);
@@ -313,11 +313,11 @@ public final class CellRefUtil {
 	}
 
 	/**
-	 * ɾʱԪ
-	 * @param r Ԫк
-	 * @param rows ɾк
-	 * @param isInsert true룬falseɾ
-	 * @return кţ-1ʾõбɾ
+	 * 增删行时调整单元格引用
+	 * @param r 单元格的行号
+	 * @param rows 插入或删除的行号
+	 * @param isInsert true：插入，false：删除
+	 * @return 调整后的行号，或者-1表示引用的行被删除
 	 */
 	public static int adjustRowReference(int r, int []rows, boolean isInsert) {
 		int count = rows.length;
@@ -333,14 +333,14 @@ public final class CellRefUtil {
 	}
 
 	/**
-	 * ѱʽжlct1øΪlct2ڰһеһ񣬸ıԴõĿ
-	 * @param str ʽ
-	 * @param lct1 ԭõĵԪ
-	 * @param lct2 Ŀ굥Ԫ
-	 * @return 任ıʽ
+	 * 把表达式中对lct1的引用改为lct2，用于把一个格剪切到另一个格，改变对源格的引用到目标格
+	 * @param str 表达式
+	 * @param lct1 原来引用的单元格
+	 * @param lct2 目标单元格
+	 * @return 变换后的表达式
 	 */
 	public static String exchangeCellString(String str, CellLocation lct1, CellLocation lct2) {
-		//ĵԪ񲻴
+		//冻结或错误的单元格不处理
 		if (str == null || str.length() == 0 || str.startsWith(ERRORREF)) {
 			return str;
 		}
@@ -349,7 +349,7 @@ public final class CellRefUtil {
 		int len = str.length();
 		for (int idx = 0; idx < len; ) {
 			char ch = str.charAt(idx);
-			if (ch == '\'' || ch == '\"') { // ַ
+			if (ch == '\'' || ch == '\"') { // 跳过字符串
 				int tmp = Sentence.scanQuotation(str, idx);
 				if (tmp < 0) {
 					if (strNew != null) strNew.append(str.substring(idx));
@@ -370,8 +370,8 @@ public final class CellRefUtil {
 					continue;
 				}
 
-				int macroIndex = -1; // A$23$
-				int numIndex = -1; // ֵ
+				int macroIndex = -1; // A$23中$的索引
+				int numIndex = -1; // 数字的索引
 
 				for (int i = idx + 1; i < last; ++i) {
 					char tmp = str.charAt(i);
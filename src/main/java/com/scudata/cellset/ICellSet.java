@@ -9,88 +9,88 @@ public interface ICellSet
 	extends ICloneable, Externalizable, IRecord {
 
 	/**
-	 * ȡͨԪ
-	 * @param row к(1ʼ)
-	 * @param col к(1ʼ)
+	 * 取普通单元格
+	 * @param row 行号(从1开始)
+	 * @param col 列号(从1开始)
 	 * @return INormalCell
 	 */
 	public INormalCell getCell(int row, int col);
 
 	/**
-	 * ȡͨԪ
-	 * @param id String Ԫַʶ: B2
+	 * 取普通单元格
+	 * @param id String 单元格字符串标识: B2
 	 * @return INormalCell
 	 */
 	public INormalCell getCell(String id);
 
 	/**
-	 * ͨԪ
-	 * @param r к(1ʼ)
-	 * @param c к(1ʼ)
-	 * @param cell ͨԪ
+	 * 设普通单元格
+	 * @param r 行号(从1开始)
+	 * @param c 列号(从1开始)
+	 * @param cell 普通单元格
 	 */
 	public void setCell(int r, int c, INormalCell cell);
 
 	/**
-	 * ȡ׵Ԫ
-	 * @param r к(1ʼ)
+	 * 取行首单元格
+	 * @param r 行号(从1开始)
 	 * @return IRCell
 	 */
 	public IRowCell getRowCell(int r);
 
 	/**
-	 * ׵Ԫ
-	 * @param r к(1ʼ)
-	 * @param rc ׵Ԫ
+	 * 设行首单元格
+	 * @param r 行号(从1开始)
+	 * @param rc 行首单元格
 	 */
 	public void setRowCell(int r, IRowCell rc);
 
 	/**
-	 * ȡ׵Ԫ
-	 * @param c к(1ʼ)
+	 * 取列首单元格
+	 * @param c 列号(从1开始)
 	 * @return IColCell
 	 */
 	public IColCell getColCell(int c);
 
 	/**
-	 * ׵Ԫ
-	 * @param c к(1ʼ)
-	 * @param cc ׵Ԫ
+	 * 设列首单元格
+	 * @param c 列号(从1开始)
+	 * @param cc 列首单元格
 	 */
 	public void setColCell(int c, IColCell cc);
 
 	/**
-	 * @return int ر
+	 * @return int 返回报表行数
 	 */
 	public int getRowCount();
 
 	/**
-	 * @return int ر
+	 * @return int 返回报表列数
 	 */
 	public int getColCount();
 
 	/**
-	 * صǰڼĵԪ
+	 * 返回当前正在计算的单元格
 	 * @return INormalCell
 	 */
 	public INormalCell getCurrent();
 
 	/**
-	 * еĲ
-	 * @param c int к
+	 * 返回列的层
+	 * @param c int 列号
 	 * @return int
 	 */
 	public int getColLevel(int c);
 
 	/**
-	 * еĲ
-	 * @param r int к
+	 * 返回行的层
+	 * @param r int 行号
 	 * @return int
 	 */
 	public int getRowLevel(int r);
 
 	/**
-	 * ؼ
+	 * 返回计算上下文
 	 * @return Context
 	 */
 	public Context getContext();
@@ -8,37 +8,37 @@ public interface IColCell
 	extends ICloneable, Externalizable, IRecord {
 
 	/**
-	 * к
+	 * 返回列号
 	 * @return int
 	 */
 	public int getCol();
 
 	/**
-	 * к
+	 * 设置列号
 	 * @param col int
 	 */
 	public void setCol(int col);
 
 	/**
-	 * п
+	 * 返回列宽
 	 * @return float
 	 */
 	public float getWidth();
 
 	/**
-	 * п
+	 * 设置列宽
 	 * @param w float
 	 */
 	public void setWidth(float w);
 
 	/**
-	 * ز
+	 * 返回层号
 	 * @return int
 	 */
 	public int getLevel();
 
 	/**
-	 * ò
+	 * 设置层号
 	 * @param level int
 	 */
 	public void setLevel(int level);
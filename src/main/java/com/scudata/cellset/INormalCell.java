@@ -9,86 +9,86 @@ public interface INormalCell
 	extends ICloneable, Externalizable, IRecord {
 
 	/**
-	 * ȡõԪк
+	 * 取得单元格的行号
 	 * @return int
 	 */
 	public int getRow();
 
 	/**
-	 * õԪк
+	 * 设置单元格的行号
 	 * @param r int
 	 */
 	public void setRow(int r);
 
 	/**
-	 * ȡõԪк
+	 * 取得单元格的列号
 	 * @return int
 	 */
 	public int getCol();
 
 	/**
-	 * õԪк
+	 * 设置单元格的列号
 	 * @param c int
 	 */
 	public void setCol(int c);
 
 	/**
-	 * صԪʶ
+	 * 返回单元格标识
 	 * @return String
 	 */
 	public String getCellId();
 
 	/**
-	 * صԪ
+	 * 返回单元格所属的网格
 	 * @return ICellSet
 	 */
 	public ICellSet getCellSet();
 
 	/**
-	 * õԪ
+	 * 设置单元格所属的网格
 	 * @param cs ICellSet
 	 */
 	public void setCellSet(ICellSet cs);
 
 	/**
-	 * @return String صԪʽ
+	 * @return String 返回单元格表达式
 	 */
 	public String getExpString();
 
 	/**
-	 * õԪʽ
+	 * 设置单元格表达式
 	 * @param exp String
 	 */
 	public void setExpString(String exp);
 
 	/**
-	 * صԪıʽ
+	 * 返回单元格的表达式
 	 * @return Expression
 	 */
 	//public Expression getExpression();
 
 	/**
-	 * 㵥Ԫʽķֵ
+	 * 计算单元格表达式的返回值类型
 	 * @param ctx Context
 	 * @return byte
 	 */
 	public byte calcExpValueType(Context ctx);
 
 	/**
-	 * صԪֵûм򷵻ؿ
+	 * 返回单元格值，没有计算则返回空
 	 * @return Object
 	 */
 	public Object getValue();
 
 	/**
-	 * صԪֵûм
+	 * 返回单元格值，没有计算则计算它
 	 * @param doCalc boolean
 	 * @return Object
 	 */
 	public Object getValue(boolean doCalc);
 
 	/**
-	 * õԪֵ
+	 * 设置单元格值
 	 * @param value Object
 	 */
 	public void setValue(Object value);
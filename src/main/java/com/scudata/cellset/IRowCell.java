@@ -8,37 +8,37 @@ public interface IRowCell
 	extends ICloneable, Externalizable, IRecord {
 
 	/**
-	 * к
+	 * 返回行号
 	 * @return int
 	 */
 	public int getRow();
 
 	/**
-	 * к
+	 * 设置行号
 	 * @param row int
 	 */
 	public void setRow(int row);
 
 	/**
-	 * и
+	 * 返回行高
 	 * @return float
 	 */
 	public float getHeight();
 
 	/**
-	 * и
+	 * 设置行高
 	 * @param h float
 	 */
 	public void setHeight(float h);
 
 	/**
-	 * ز
+	 * 返回层号
 	 * @return int
 	 */
 	public int getLevel();
 
 	/**
-	 * ò
+	 * 设置层号
 	 * @param level int
 	 */
 	public void setLevel(int level);
@@ -26,16 +26,16 @@ import com.scudata.dm.ParamList;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ࣬ʵɾе༭
+ * 网格基类，实现了增删行等网格编辑功能
  * @author WangXiaoJun
  *
  */
 abstract public class CellSet implements ICellSet {
 	private static final long serialVersionUID = 0x02010010;
 
-	// ɾеķؽ
+	// 删除行的返回结果
 	private static class RemoveResult {
-		// ڻָɾ
+		// 用于恢复删除的行
 		private Object [][]deleteRows;
 		private int []deleteSeqs;
 		private List<NormalCell> errorRefCells;
@@ -48,7 +48,7 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	protected Matrix cellMatrix;
-	protected ParamList paramList; // 
+	protected ParamList paramList; // 表格参数
 
 	//transient private byte[] cipherHash = new byte[16];
 	transient private boolean autoAdjustExp = true;
@@ -59,9 +59,9 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * һָı
-	 * @param row int 
-	 * @param col int 
+	 * 构造一个指定行数和列数的表格
+	 * @param row int 行数
+	 * @param col int 列数
 	 */
 	public CellSet(int row, int col) {
 		if (row < 1) row = 1;
@@ -75,7 +75,7 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ͨԪ
+	 * 产生普通单元格
 	 * @param r int
 	 * @param c int
 	 * @return NormalCell
@@ -83,23 +83,23 @@ abstract public class CellSet implements ICellSet {
 	abstract public NormalCell newCell(int r, int c);
 
 	/**
-	 * ׸
+	 * 产生行首格
 	 * @param r int
 	 * @return RowCell
 	 */
 	abstract public RowCell newRowCell(int r);
 
 	/**
-	 * ׸
+	 * 产生列首格
 	 * @param c int
 	 * @return ColCell
 	 */
 	abstract public ColCell newColCell(int c);
 
 	/**
-	 * ȡͨԪ
-	 * @param row к(1ʼ)
-	 * @param col к(1ʼ)
+	 * 取普通单元格
+	 * @param row 行号(从1开始)
+	 * @param col 列号(从1开始)
 	 * @return INormalCell
 	 */
 	public INormalCell getCell(int row, int col) {
@@ -111,8 +111,8 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ȡͨԪ
-	 * @param id String Ԫַʶ: B2
+	 * 取普通单元格
+	 * @param id String 单元格字符串标识: B2
 	 * @return INormalCell
 	 */
 	public INormalCell getCell(String id) {
@@ -128,10 +128,10 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ͨԪ
-	 * @param r int к(1ʼ)
-	 * @param c int к(1ʼ)
-	 * @param cell INormalCell ͨԪ
+	 * 设普通单元格
+	 * @param r int 行号(从1开始)
+	 * @param c int 列号(从1开始)
+	 * @param cell INormalCell 普通单元格
 	 */
 	public void setCell(int r, int c, INormalCell cell) {
 		cell.setRow(r);
@@ -140,8 +140,8 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ȡ׵Ԫ
-	 * @param r int к(1ʼ)
+	 * 取行首单元格
+	 * @param r int 行号(从1开始)
 	 * @return IRowCell
 	 */
 	public IRowCell getRowCell(int r) {
@@ -149,9 +149,9 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ׵Ԫ
-	 * @param r int к(1ʼ)
-	 * @param rc IRowCell ׵Ԫ
+	 * 设行首单元格
+	 * @param r int 行号(从1开始)
+	 * @param rc IRowCell 行首单元格
 	 */
 	public void setRowCell(int r, IRowCell rc){
 		rc.setRow(r);
@@ -159,8 +159,8 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ȡ׵Ԫ
-	 * @param c int к(1ʼ)
+	 * 取列首单元格
+	 * @param c int 列号(从1开始)
 	 * @return IColCell
 	 */
 	public IColCell getColCell(int c){
@@ -168,9 +168,9 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ׵Ԫ
-	 * @param c int к(1ʼ)
-	 * @param cc IColCell ׵Ԫ
+	 * 设列首单元格
+	 * @param c int 列号(从1开始)
+	 * @param cc IColCell 列首单元格
 	 */
 	public void setColCell(int c, IColCell cc){
 		cc.setCol(c);
@@ -178,33 +178,33 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * @return int ر
+	 * @return int 返回报表行数
 	 */
 	public int getRowCount(){
 		return cellMatrix.getRowSize() - 1;
 	}
 
 	/**
-	 * @return int ر
+	 * @return int 返回报表列数
 	 */
 	public int getColCount(){
 		return cellMatrix.getColSize() - 1;
 	}
 
 	/**
-	 * һ
-	 * @param r к(1ʼ)
-	 * @return List<NormalCell> ĵԪùɵ[NormalCell]
+	 * 插入一行
+	 * @param r 行号(从1开始)
+	 * @return List<NormalCell> 错误的单元格引用构成的数组[NormalCell]
 	 */
 	public List<NormalCell> insertRow(int r) {
 		return insertRow(r, 1);
 	}
 
 	/**
-	 * 
-	 * @param r к(1ʼ)
-	 * @param count 
-	 * @return List<NormalCell> ĵԪùɵ[NormalCell]
+	 * 插入多行
+	 * @param r 行号(从1开始)
+	 * @param count 插入行数
+	 * @return List<NormalCell> 错误的单元格引用构成的数组[NormalCell]
 	 */
 	public List<NormalCell> insertRow(int r, int count) {
 		List<NormalCell> errorCells = new ArrayList<NormalCell>();
@@ -222,40 +222,40 @@ abstract public class CellSet implements ICellSet {
 			return errorCells;
 		}
 
-		// ʽ
+		// 调整表达式
 		int colCount = getColCount();
 		if (autoAdjustExp) {
 			relativeRegulate(r, count, -1, 0, oldCount, colCount, errorCells);
 		}
 
-		//
+		//插入行
 		cellMatrix.insertRows(r, count);
 
-		//׸
+		//添加行首格
 		insertRowCell(r, count);
 
-		//ӵԪ
+		//添加单元格
 		insertCell(r, count, 1, colCount);
 
-		// 浥Ԫк
+		// 调整后面单元格的行号
 		adjustRow(r + count);
 		return errorCells;
 	}
 
 	/**
-	 * һ
-	 * @param c к(1ʼ)
-	 * @return List<NormalCell> ĵԪùɵ[NormalCell]
+	 * 插入一列
+	 * @param c 列号(从1开始)
+	 * @return List<NormalCell> 错误的单元格引用构成的数组[NormalCell]
 	 */
 	public List<NormalCell> insertCol(int c) {
 		return insertCol(c, 1);
 	}
 
 	/**
-	 * 
-	 * @param c к(1ʼ)
-	 * @param count 
-	 * @return List<NormalCell> ĵԪùɵ[NormalCell]
+	 * 插入多列
+	 * @param c 列号(从1开始)
+	 * @param count 插入列数
+	 * @return List<NormalCell> 错误的单元格引用构成的数组[NormalCell]
 	 */
 	public List<NormalCell> insertCol(int c, int count) {
 		List<NormalCell> errorCells = new ArrayList<NormalCell>();
@@ -273,36 +273,36 @@ abstract public class CellSet implements ICellSet {
 			return errorCells;
 		}
 
-		// ʽ
+		// 调整表达式
 		int rowCount = getRowCount();
 		if (autoAdjustExp) {
 			relativeRegulate( -1, 0, c, count, rowCount, oldCount, errorCells);
 		}
 
-		//
+		//插入列
 		cellMatrix.insertCols(c, count);
 
-		//׸
+		//添加列首格
 		insertColCell(c, count);
 
-		//ӵԪ
+		//添加单元格
 		insertCell(1, rowCount, c, count);
 
-		// 浥Ԫк
+		// 调整后面单元格的列号
 		adjustCol(c + count);
 		return errorCells;
 	}
 
 	/**
-	 * һ
+	 * 增加一行
 	 */
 	public void addRow() {
 		addRow(1);
 	}
 
 	/**
-	 * Ӷ
-	 * @param count int 
+	 * 增加多行
+	 * @param count int 行数
 	 */
 	public void addRow(int count) {
 		if (count < 1) {
@@ -314,23 +314,23 @@ abstract public class CellSet implements ICellSet {
 
 		cellMatrix.addRows(count);
 
-		//׸
+		//添加行首格
 		insertRowCell(rowIndex, count);
 
-		//ӵԪ
+		//添加单元格
 		insertCell(rowIndex, count, 1, colCount);
 	}
 
 	/**
-	 * һ
+	 * 增加一列
 	 */
 	public void addCol() {
 		addCol(1);
 	}
 
 	/**
-	 * Ӷ
-	 * @param count int 
+	 * 增加多列
+	 * @param count int 列数
 	 */
 	public void addCol(int count) {
 		if (count < 1) {
@@ -342,27 +342,27 @@ abstract public class CellSet implements ICellSet {
 
 		cellMatrix.addCols(count);
 
-		//׸
+		//添加列首格
 		insertColCell(colIndex, count);
 
-		//ӵԪ
+		//添加单元格
 		insertCell(1, rowCount, colIndex, count);
 	}
 
 	/**
-	 * ɾһ
-	 * @param r к(1ʼ)
-	 * @return List<NormalCell> ĵԪùɵ[NormalCell]
+	 * 删除一行
+	 * @param r 行号(从1开始)
+	 * @return List<NormalCell> 错误的单元格引用构成的数组[NormalCell]
 	 */
 	public List<NormalCell> removeRow(int r) {
 		return removeRow(r, 1);
 	}
 
 	/**
-	 * ɾ
-	 * @param r к(1ʼ)
-	 * @param count ɾ
-	 * @return List<NormalCell> ĵԪùɵ[NormalCell]
+	 * 删除多行
+	 * @param r 行号(从1开始)
+	 * @param count 删除行数
+	 * @return List<NormalCell> 错误的单元格引用构成的数组[NormalCell]
 	 */
 	public List<NormalCell> removeRow(int r, int count) {
 		List<NormalCell> errorCells = new ArrayList<NormalCell>();
@@ -373,33 +373,33 @@ abstract public class CellSet implements ICellSet {
 		int oldRowCount = getRowCount();
 		int oldColCount = getColCount();
 
-		// ɾ
+		// 删除行
 		cellMatrix.deleteRows(r, count);
 
-		// ʽ
+		// 调整表达式
 		if (autoAdjustExp) {
 			relativeRegulate(r, -count, -1, 0, oldRowCount, oldColCount, errorCells);
 		}
 
-		// 浥Ԫк
+		// 调整后面单元格的行号
 		adjustRow(r);
 		return errorCells;
 	}
 
 	/**
-	 * ɾһ
-	 * @param c к(1ʼ)
-	 * @return List<NormalCell> ĵԪùɵ[NormalCell]
+	 * 删除一列
+	 * @param c 列号(从1开始)
+	 * @return List<NormalCell> 错误的单元格引用构成的数组[NormalCell]
 	 */
 	public List<NormalCell> removeCol(int c) {
 		return removeCol(c, 1);
 	}
 
 	/**
-	 * ɾ
-	 * @param c к(1ʼ)
-	 * @param count ɾ
-	 * @return List<NormalCell> ĵԪùɵ[NormalCell]
+	 * 删除多列
+	 * @param c 列号(从1开始)
+	 * @param count 删除列数
+	 * @return List<NormalCell> 错误的单元格引用构成的数组[NormalCell]
 	 */
 	public List<NormalCell> removeCol(int c, int count) {
 		List<NormalCell> errorCells = new ArrayList<NormalCell>();
@@ -410,23 +410,23 @@ abstract public class CellSet implements ICellSet {
 		int oldRowCount = getRowCount();
 		int oldColCount = getColCount();
 
-		//ɾ
+		//删除列
 		cellMatrix.deleteCols(c, count);
 
-		// ʽ
+		// 调整表达式
 		if (autoAdjustExp) {
 			relativeRegulate(-1, 0, c, -count, oldRowCount, oldColCount, errorCells);
 		}
 
-		// 浥Ԫк
+		// 调整后面单元格的列号
 		adjustCol(c);
 		return errorCells;
 	}
 
 	/**
-	 * ɾָУкŴС
+	 * 删除指定行，行号从小到大排序
 	 * @param rows int[]
-	 * @return Object undoRemoves
+	 * @return Object 用于undoRemoves
 	 */
 	public Object removeRows(int []rows) {
 		if (rows == null || rows.length == 0) return null;
@@ -434,7 +434,7 @@ abstract public class CellSet implements ICellSet {
 
 		List<NormalCell> errorCells = new ArrayList<NormalCell>();
 
-		// ɾ
+		// 保留被删除的行
 		int colCount = getColCount();
 		Object [][]deleteRows = new Object[count][];
 		for (int i = 0; i < count; ++i) {
@@ -449,13 +449,13 @@ abstract public class CellSet implements ICellSet {
 
 		int oldRowCount = getRowCount();
 
-		// ɾ
+		// 删除行
 		cellMatrix.deleteRows(rows);
 
-		// 浥Ԫк
+		// 调整后面单元格的行号
 		adjustRow(rows[0]);
 
-		// ʽ
+		// 调整表达式
 		adjustRowReference(rows, false, oldRowCount, errorCells);
 
 		RemoveResult removeResult = new RemoveResult(deleteRows, rows, errorCells);
@@ -463,7 +463,7 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ɾв
+	 * 撤销删除行操作
 	 * @param removeRetVal Object
 	 */
 	public void undoRemoveRows(Object removeRetVal) {
@@ -498,7 +498,7 @@ abstract public class CellSet implements ICellSet {
 		}
 	}
 
-	// ͨԪ
+	// 给矩形区域添加普通单元格
 	private void insertCell(int startRow, int rowCount, int startCol, int colCount) {
 		int endRow = startRow + rowCount;
 		int endCol = startCol + colCount;
@@ -510,7 +510,7 @@ abstract public class CellSet implements ICellSet {
 		}
 	}
 
-	// ׸
+	// 添加行首格
 	private void insertRowCell(int startRow, int rowCount) {
 		int endRow = startRow + rowCount;
 		for (int r = startRow; r < endRow; ++r) {
@@ -518,7 +518,7 @@ abstract public class CellSet implements ICellSet {
 		}
 	}
 
-	// ׸
+	// 添加列首格
 	private void insertColCell(int startCol, int colCount) {
 		int endCol = startCol + colCount;
 		for (int c = startCol; c < endCol; ++c) {
@@ -526,7 +526,7 @@ abstract public class CellSet implements ICellSet {
 		}
 	}
 
-	// startRow֮еĵԪк
+	// 调整startRow和它之后行的单元格的行号
 	protected void adjustRow(int startRow) {
 		int rowCount = getRowCount();
 		int colCount = getColCount();
@@ -542,7 +542,7 @@ abstract public class CellSet implements ICellSet {
 		}
 	}
 
-	// startCol֮еĵԪк
+	// 调整startCol和它之后列的单元格的列号
 	protected void adjustCol(int startCol) {
 		int rowCount = getRowCount();
 		int colCount = getColCount();
@@ -559,7 +559,7 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ȡԪ
+	 * 取参数元数据
 	 * @return ParamList
 	 */
 	public ParamList getParamList(){
@@ -567,15 +567,15 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * Ԫ
-	 * @param paramList Ԫ
+	 * 设参数元数据
+	 * @param paramList 参数元数据
 	 */
 	public void setParamList(ParamList paramList){
 		this.paramList = paramList;
 	}
 
 	/**
-	 * 
+	 * 返回网格计算上下文
 	 * @return Context
 	 */
 	public Context getContext() {
@@ -584,7 +584,7 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * 
+	 * 设置网格计算上下文
 	 * @param ctx Context
 	 */
 	public void setContext(Context ctx) {
@@ -592,8 +592,8 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * õԪֵΪʼ״̬ͷԴɾвʱ
-	 * жĲ뵽УѴڲ򲻱䡣
+	 * 重置单元格值为初始状态，释放资源。删除上下文中产生的临时变量，
+	 * 并把网格中定义的参数加入到上下文中，如果上下文中已存在参数则不变。
 	 */
 	public void reset() {
 		int rowCount = getRowCount();
@@ -610,10 +610,10 @@ abstract public class CellSet implements ICellSet {
 		Context ctx = getContext();
 		
 		if (ctx != null) {
-			// ÿõctx̱߳жпܴҼջ
+			// 每个网用单独的ctx，计算线程被中断有可能打乱计算堆栈
 			ctx.getComputeStack().reset();
 
-			// ɾ
+			// 删除变量表
 			ParamList list = ctx.getParamList();
 			if (list != null) {
 				list.clear();
@@ -624,25 +624,25 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * 
+	 * 运算网格
 	 */
 	abstract public void run();
 
 	/**
-	 * ִĳԪ
-	 * @param row int Ԫк
-	 * @param col int Ԫк
+	 * 执行某个单元格
+	 * @param row int 单元格行号
+	 * @param col int 单元格列号
 	 */
 	abstract public void runCell(int row, int col);
 
 	/**
-	 * УͷԴֵԱ
+	 * 结束运行，释放资源，格值仍保留
 	 */
 	public void runFinished() {
 	}
 
 	/**
-	 * жĲӵУѴڲ򲻱
+	 * 把网格中定义的参数加到上下文中，如果上下文中已存在参数则不变
 	 */
 	public void setParamToContext() {
 		Context ctx = getContext();
@@ -651,7 +651,7 @@ abstract public class CellSet implements ICellSet {
 			for (int i = 0, count = paramList.count(); i < count; ++i) {
 				Param param = paramList.get(i);
 				if (ctx.getParam(param.getName()) == null) {
-					// ĶǴ
+					// 变量里存的都是串
 					Object value = param.getValue();
 					ctx.setParamValue(param.getName(), value, param.getKind());
 				}
@@ -668,10 +668,10 @@ abstract public class CellSet implements ICellSet {
 			for (int i = 0, count = paramList.count(); i < count; ++i) {
 				Param param = paramList.get(i);
 
-				// ĶǴ
+				// 变量里存的都是串
 				Object value = param.getValue();
 				
-				// value޸ĳɴʵֵ
+				// value修改成存真实值了
 				//if (value instanceof String) {
 				//	value = Variant.parse((String)value);
 				//}
@@ -682,8 +682,8 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * дݵ
-	 * @param out ObjectOutput 
+	 * 写内容到流
+	 * @param out ObjectOutput 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -693,8 +693,8 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ж
-	 * @param in ObjectInput 
+	 * 从流中读内容
+	 * @param in ObjectInput 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -705,14 +705,14 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * дݵ
+	 * 写内容到流
 	 * @throws IOException
-	 * @return 
+	 * @return 输出流
 	 */
 	public byte[] serialize() throws IOException{
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
 
-		// лԪ
+		// 序列化单元格矩阵
 		int rowCount = getRowCount();
 		int colCount = getColCount();
 		out.writeInt(rowCount);
@@ -737,7 +737,7 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ж
+	 * 从流中读内容
 	 * @param buf byte[]
 	 * @throws IOException
 	 * @throws ClassNotFoundException
@@ -745,7 +745,7 @@ abstract public class CellSet implements ICellSet {
 	public void fillRecord(byte[] buf) throws IOException, ClassNotFoundException {
 		ByteArrayInputRecord in = new ByteArrayInputRecord(buf);
 
-		// ɵԪ
+		// 生成单元格矩阵
 		int rowCount = in.readInt();
 		int colCount = in.readInt();
 		cellMatrix = new Matrix(rowCount + 1, colCount + 1);
@@ -768,12 +768,12 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ı䵥Ԫʽַекźкţ$εĲ޸ģ$A$3
-	 * @param srcCs ICellSet ƵԪԴ
-	 * @param cell NormalCell еԪַʽ
-	 * @param rowOff int кŵֵ
-	 * @param colOff int кŵֵ
-	 * @return List<NormalCell> ĵԪùɵ[NormalCell]
+	 * 改变单元格表达式字符串中的行号和列号（$修饰的不进行修改，如$A$3）
+	 * @param srcCs ICellSet 复制单元格的源网
+	 * @param cell NormalCell 含有单元格的字符串表达式
+	 * @param rowOff int 行号的增加数值
+	 * @param colOff int 列号的增加数值
+	 * @return List<NormalCell> 错误的单元格引用构成的数组[NormalCell]
 	 */
 	public List<NormalCell> adjustCell(ICellSet srcCs, NormalCell cell, int rowOff, int colOff) {
 		NormalCell cellClone = (NormalCell)cell.deepClone();
@@ -805,10 +805,10 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * õԪsrcLctıʽΪõԪtgtLct
-	 * @param srcLct CellLocation Դλ
-	 * @param tgtLct CellLocation Ŀλ
-	 * @return List<NormalCell>ĵԪ
+	 * 把引用单元格srcLct的表达式改为引用单元格tgtLct
+	 * @param srcLct CellLocation 源位置
+	 * @param tgtLct CellLocation 目标位置
+	 * @return List<NormalCell>错误的单元格引用
 	 */
 	public List<NormalCell> adjustReference(CellLocation srcLct, CellLocation tgtLct) {
 		List<NormalCell> errorCells = new ArrayList<NormalCell>();
@@ -860,9 +860,9 @@ abstract public class CellSet implements ICellSet {
 	}
 	
 	/**
-	 * ѱʽжlct1øΪlct2ڰһеһ񣬸ıԴõĿ
-	 * @param lct1 ԭõĵԪ
-	 * @param lct2 Ŀ굥Ԫ
+	 * 把表达式中对lct1的引用改为lct2，用于把一个格剪切到另一个格，改变对源格的引用到目标格
+	 * @param lct1 原来引用的单元格
+	 * @param lct2 目标单元格
 	 */
 	public void exchangeReference(CellLocation lct1, CellLocation lct2) {
 		if (!autoAdjustExp) return;
@@ -891,9 +891,9 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * srıʽΪtr
-	 * @param sr int Դ
-	 * @param tr int Ŀ
+	 * 把引用行sr的表达式改为引用行tr
+	 * @param sr int 源行
+	 * @param tr int 目标行
 	 */
 	public void adjustRowReference(int sr, int tr) {
 		if (!autoAdjustExp) return;
@@ -921,7 +921,7 @@ abstract public class CellSet implements ICellSet {
 		}
 	}
 
-	// ֵΪλõҪɵ,0ʾ
+	// 数组值为此位置的行需要变成的新行,0表示不变
 	protected void adjustRowReference(int []newSeqs) {
 		if (!autoAdjustExp) return;
 
@@ -948,12 +948,12 @@ abstract public class CellSet implements ICellSet {
 		}
 	}
 
-	// ıַеԪкźкţ$εĲ޸ģ$A$3
-	// ظıַ("B3", 1, -1)A4
+	// 改变字符串中单元格的行号和列号（$修饰的不进行修改，如$A$3）
+	// 返回改变后的字符串，如("B3", 1, -1)返回A4
 	private String relativeRegulateString(ICellSet srcCs, String str, int rowIncrement,
 										  int colIncrement, boolean []error) {
 		error[0] = false;
-		//ĵԪ񲻴
+		//冻结或错误的单元格不处理
 		if (str == null || str.length() == 0 || str.startsWith(CellRefUtil.ERRORREF)) {
 			return str;
 		}
@@ -963,7 +963,7 @@ abstract public class CellSet implements ICellSet {
 
 		for (int idx = 0; idx < len; ) {
 			char ch = str.charAt(idx);
-			if (ch == '\'' || ch == '\"') { // ַ
+			if (ch == '\'' || ch == '\"') { // 跳过字符串
 				int tmp = Sentence.scanQuotation(str, idx);
 				if (tmp < 0) {
 					if (strNew != null) strNew.append(str.substring(idx));
@@ -985,8 +985,8 @@ abstract public class CellSet implements ICellSet {
 					continue;
 				}
 
-				int macroIndex = -1; // A$23$
-				int numIndex = -1; // ֵ
+				int macroIndex = -1; // A$23中$的索引
+				int numIndex = -1; // 数字的索引
 
 				for (int i = idx + 1; i < last; ++i) {
 					char tmp = str.charAt(i);
@@ -1094,11 +1094,11 @@ abstract public class CellSet implements ICellSet {
 		return strNew == null ? str : strNew.toString();
 	}
 
-	// 롢ɾʱݼʽеĵԪ
-	// rowBase л
-	// colBase  л
-	// rowIncrementɾ0Ϊ룬С0Ϊɾ
-	// colIncrement ɾ0Ϊ룬С0Ϊɾ
+	// 处理插入、删除行列时数据集表达式中的单元格引用
+	// rowBase 　　　　　行基号
+	// colBase 　　　 列基号
+	// rowIncrement　　　增删行数，大于0为插入，小于0为删除
+	// colIncrement　 增删列数，大于0为插入，小于0为删除
 	private void relativeRegulate(int rowBase, int rowIncrement, int colBase, int colIncrement, 
 			int oldRowCount, int oldColCount, List<NormalCell> errorCells) {
 		int rowCount = getRowCount();
@@ -1145,18 +1145,18 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ѱʽжlct1øΪlct2ڰһеһ񣬸ıԴõĿ
-	 * @param str ʽ
-	 * @param lct1 ԭõĵԪ
-	 * @param lct2 Ŀ굥Ԫ
-	 * @return 任ıʽ
+	 * 把表达式中对lct1的引用改为lct2，用于把一个格剪切到另一个格，改变对源格的引用到目标格
+	 * @param str 表达式
+	 * @param lct1 原来引用的单元格
+	 * @param lct2 目标单元格
+	 * @return 变换后的表达式
 	 */
 	private static String relativeRegulateString(String str, int rowBase, int rowIncrement,
 										  int colBase, int colIncrement,
 										  int oldRowCount, int oldColCount, boolean []error) {
 		error[0] = false;
 
-		//ĵԪ񲻴
+		//冻结或错误的单元格不处理
 		if (str == null || str.length() == 0 || str.startsWith(CellRefUtil.ERRORREF)) {
 			return str;
 		}
@@ -1166,7 +1166,7 @@ abstract public class CellSet implements ICellSet {
 
 		for (int idx = 0; idx < len; ) {
 			char ch = str.charAt(idx);
-			if (ch == '\'' || ch == '\"') { // ַ
+			if (ch == '\'' || ch == '\"') { // 跳过字符串
 				int tmp = Sentence.scanQuotation(str, idx);
 				if (tmp < 0) {
 					if (strNew != null) strNew.append(str.substring(idx));
@@ -1188,8 +1188,8 @@ abstract public class CellSet implements ICellSet {
 					continue;
 				}
 
-				int macroIndex = -1; // A$23$
-				int numIndex = -1; // ֵ
+				int macroIndex = -1; // A$23中$的索引
+				int numIndex = -1; // 数字的索引
 
 				for (int i = idx + 1; i < last; ++i) {
 					char tmp = str.charAt(i);
@@ -1337,7 +1337,7 @@ abstract public class CellSet implements ICellSet {
 	private static String relativeRegulateString(String str, CellLocation srcLct, CellLocation tgtLct, boolean[] error) {
 		error[0] = false;
 		
-		//ĵԪ񲻴
+		//冻结或错误的单元格不处理
 		if (str == null || str.length() == 0 || str.startsWith(CellRefUtil.ERRORREF)) {
 			return str;
 		}
@@ -1347,7 +1347,7 @@ abstract public class CellSet implements ICellSet {
 
 		for (int idx = 0; idx < len; ) {
 			char ch = str.charAt(idx);
-			if (ch == '\'' || ch == '\"') { // ַ
+			if (ch == '\'' || ch == '\"') { // 跳过字符串
 				int tmp = Sentence.scanQuotation(str, idx);
 				if (tmp < 0) {
 					if (strNew != null) strNew.append(str.substring(idx));
@@ -1369,8 +1369,8 @@ abstract public class CellSet implements ICellSet {
 					continue;
 				}
 
-				int macroIndex = -1; // A$23$
-				int numIndex = -1; // ֵ
+				int macroIndex = -1; // A$23中$的索引
+				int numIndex = -1; // 数字的索引
 
 				for (int i = idx + 1; i < last; ++i) {
 					char tmp = str.charAt(i);
@@ -1475,7 +1475,7 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	private String relativeRegulateRowString(String str, int sr, int tr) {
-		//ĵԪ񲻴
+		//冻结或错误的单元格不处理
 		if (str == null || str.length() == 0 || str.startsWith(CellRefUtil.ERRORREF)) {
 			return str;
 		}
@@ -1486,7 +1486,7 @@ abstract public class CellSet implements ICellSet {
 
 		for (int idx = 0; idx < len; ) {
 			char ch = str.charAt(idx);
-			if (ch == '\'' || ch == '\"') { // ַ
+			if (ch == '\'' || ch == '\"') { // 跳过字符串
 				int tmp = Sentence.scanQuotation(str, idx);
 				if (tmp < 0) {
 					if (strNew != null) strNew.append(str.substring(idx));
@@ -1508,8 +1508,8 @@ abstract public class CellSet implements ICellSet {
 					continue;
 				}
 
-				int macroIndex = -1; // A$23$
-				int numIndex = -1; // ֵ
+				int macroIndex = -1; // A$23中$的索引
+				int numIndex = -1; // 数字的索引
 
 				for (int i = idx + 1; i < last; ++i) {
 					char tmp = str.charAt(i);
@@ -1600,7 +1600,7 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	private String relativeRegulateRowString(String str, int []newSeqs) {
-		//ĵԪ񲻴
+		//冻结或错误的单元格不处理
 		if (str == null || str.length() == 0 || str.startsWith(CellRefUtil.ERRORREF)) {
 			return str;
 		}
@@ -1613,7 +1613,7 @@ abstract public class CellSet implements ICellSet {
 
 		for (int idx = 0; idx < len; ) {
 			char ch = str.charAt(idx);
-			if (ch == '\'' || ch == '\"') { // ַ
+			if (ch == '\'' || ch == '\"') { // 跳过字符串
 				int tmp = Sentence.scanQuotation(str, idx);
 				if (tmp < 0) {
 					if (strNew != null) strNew.append(str.substring(idx));
@@ -1635,8 +1635,8 @@ abstract public class CellSet implements ICellSet {
 					continue;
 				}
 
-				int macroIndex = -1; // A$23$
-				int numIndex = -1; // ֵ
+				int macroIndex = -1; // A$23中$的索引
+				int numIndex = -1; // 数字的索引
 
 				for (int i = idx + 1; i < last; ++i) {
 					char tmp = str.charAt(i);
@@ -1729,16 +1729,16 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * ɾʱǷԶʽ
-	 * @param isAuto boolean trueԶ
+	 * 设置添删行列时是否自动调整表达式
+	 * @param isAuto boolean true：自动调整
 	 */
 	public void setAdjustExpMode(boolean isAuto) {
 		autoAdjustExp = isAuto;
 	}
 
 	/**
-	 * ɾʱǷԶʽ
-	 * @return boolean trueԶ
+	 * 返回添删行列时是否自动调整表达式
+	 * @return boolean true：自动调整
 	 */
 	public boolean getAdjustExpMode() {
 		return autoAdjustExp;
@@ -1751,8 +1751,8 @@ abstract public class CellSet implements ICellSet {
 	abstract public String getMacroReplaceString(String strCell);
 
 	/**
-	 * еĲ
-	 * @param r int к
+	 * 返回行的层
+	 * @param r int 行号
 	 * @return int
 	 */
 	public int getRowLevel(int r) {
@@ -1760,17 +1760,17 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * еĲ
-	 * @param r int к
-	 * @param level int 
+	 * 设置行的层
+	 * @param r int 行号
+	 * @param level int 层号
 	 */
 	public void setRowLevel(int r, int level) {
 		((RowCell)getRowCell(r)).setLevel(level);
 	}
 
 	/**
-	 * еĲ
-	 * @param c int к
+	 * 返回列的层
+	 * @param c int 列号
 	 * @return int
 	 */
 	public int getColLevel(int c) {
@@ -1778,17 +1778,17 @@ abstract public class CellSet implements ICellSet {
 	}
 
 	/**
-	 * еĲ
-	 * @param c int к
-	 * @param level int 
+	 * 设置列的层
+	 * @param c int 列号
+	 * @param level int 层号
 	 */
 	public void setColLevel(int c, int level) {
 		((ColCell)getColCell(c)).setLevel(level);
 	}
 
 	/**
-	 * ת
-	 * @return List<NormalCell> ĵԪùɵ[NormalCell]
+	 * 将网格转置
+	 * @return List<NormalCell> 错误的单元格引用构成的数组[NormalCell]
 	 */
 	public List<NormalCell> transpose() {
 		Matrix cellMatrix = this.cellMatrix;
@@ -1797,32 +1797,32 @@ abstract public class CellSet implements ICellSet {
 		int oldRowCount = rowSize - 1;
 		int oldColCount = colSize - 1;
 
-		Matrix newMatrix = new Matrix(colSize, rowSize); // ת
+		Matrix newMatrix = new Matrix(colSize, rowSize); // 转置
 		this.cellMatrix = newMatrix;
 
-		// ׸
+		// 产生行首格
 		for (int r = 1; r < colSize; ++r) {
 			ColCell cc = (ColCell)cellMatrix.get(0, r);
 			RowCell rc = newRowCell(r);
 
-			// ԭе赽תú
-			//rc.setHeight(cc.getWidth()); // ʹȱʡֵ
+			// 把原来列的属性设到转置后的行属性里
+			//rc.setHeight(cc.getWidth()); // 使用缺省值
 			rc.setLevel(cc.getLevel());
 			newMatrix.set(r, 0, rc);
 		}
 
-		// ׸
+		// 产生列首格
 		for (int c = 1; c < rowSize; ++c) {
 			RowCell rc = (RowCell)cellMatrix.get(c, 0);
 			ColCell cc = newColCell(c);
 
-			// ԭе赽תú
-			//cc.setWidth(rc.getHeight()); // ʹȱʡֵ
+			// 把原来行的属性设到转置后的列属性里
+			//cc.setWidth(rc.getHeight()); // 使用缺省值
 			cc.setLevel(rc.getLevel());
 			newMatrix.set(0, c, cc);
 		}
 
-		// ޸ͨԪк
+		// 修改普通单元格行列号
 		for (int r = 1; r < colSize; ++r) {
 			for (int c = 1; c < rowSize; ++c) {
 				NormalCell cell = (NormalCell)cellMatrix.get(c, r);
@@ -1834,7 +1834,7 @@ abstract public class CellSet implements ICellSet {
 			}
 		}
 
-		// ޸ıʽ
+		// 修改表达式引用
 		List<NormalCell> errorCells = new ArrayList<NormalCell>();
 		if (getAdjustExpMode()) {
 			transposeCellString(errorCells, oldRowCount, oldColCount);
@@ -1889,7 +1889,7 @@ abstract public class CellSet implements ICellSet {
 
 	private String transposeCellString(String str, boolean[] error, int oldRowCount, int oldColCount) {
 		error[0] = false;
-		//ĵԪ񲻴
+		//冻结或错误的单元格不处理
 		if (str == null || str.length() == 0 || str.startsWith(CellRefUtil.ERRORREF)) {
 			return str;
 		}
@@ -1899,7 +1899,7 @@ abstract public class CellSet implements ICellSet {
 
 		for (int idx = 0; idx < len; ) {
 			char ch = str.charAt(idx);
-			if (ch == '\'' || ch == '\"') { // ַ
+			if (ch == '\'' || ch == '\"') { // 跳过字符串
 				int tmp = Sentence.scanQuotation(str, idx);
 				if (tmp < 0) {
 					if (strNew != null) strNew.append(str.substring(idx));
@@ -1921,8 +1921,8 @@ abstract public class CellSet implements ICellSet {
 					continue;
 				}
 
-				int macroIndex = -1; // A$23$
-				int numIndex = -1; // ֵ
+				int macroIndex = -1; // A$23中$的索引
+				int numIndex = -1; // 数字的索引
 
 				for (int i = idx + 1; i < last; ++i) {
 					char tmp = str.charAt(i);
@@ -2016,7 +2016,7 @@ abstract public class CellSet implements ICellSet {
 		return strNew == null ? str : strNew.toString();
 	}
 
-	// rows еŴС
+	// rows 插入行的索引，序号从小到大有序
 	protected void insertRows(int []rows, int level) {
 		int count = rows.length;
 		if (count == 0) return;
@@ -2025,27 +2025,27 @@ abstract public class CellSet implements ICellSet {
 		List<NormalCell> errorCells = new ArrayList<NormalCell>();
 		adjustRowReference(rows, true, oldRowCount, errorCells);
 
-		//
+		//插入行
 		cellMatrix.insertRows(rows);
 
 		int colCount = getColCount();
 		for (int i = 0; i < count; ++i) {
 			int r = rows[i] + i;
 
-			//׸
+			//添加行首格
 			insertRowCell(r, 1);
 
-			//ӵԪ
+			//添加单元格
 			insertCell(r, 1, 1, colCount);
 
 			setRowLevel(r, level);
 		}
 
-		// 浥Ԫк
+		// 调整后面单元格的行号
 		adjustRow(rows[0]);
 	}
 
-	// rows ɾеŴС
+	// rows 插入或删除行的索引，序号从小到大有序
 	private void adjustRowReference(int[] rows, boolean isInsert, int oldRowCount, List<NormalCell> errorCells) {
 		int rowCount = getRowCount();
 		int colCount = getColCount();
@@ -2086,10 +2086,10 @@ abstract public class CellSet implements ICellSet {
 		}
 	}
 
-	// ɾʱ޸ĵԪ
+	// 增删行时修改单元格引用
 	private String relativeRegulateRowString(String str, int[] rows,  boolean isInsert, int oldRowCount, boolean[] error) {
 		error[0] = false;
-		//ĵԪ񲻴
+		//冻结或错误的单元格不处理
 		if (str == null || str.length() == 0 || str.startsWith(CellRefUtil.ERRORREF)) {
 			return str;
 		}
@@ -2100,7 +2100,7 @@ abstract public class CellSet implements ICellSet {
 
 		for (int idx = 0; idx < len; ) {
 			char ch = str.charAt(idx);
-			if (ch == '\'' || ch == '\"') { // ַ
+			if (ch == '\'' || ch == '\"') { // 跳过字符串
 				int tmp = Sentence.scanQuotation(str, idx);
 				if (tmp < 0) {
 					if (strNew != null) strNew.append(str.substring(idx));
@@ -2122,8 +2122,8 @@ abstract public class CellSet implements ICellSet {
 					continue;
 				}
 
-				int macroIndex = -1; // A$23$
-				int numIndex = -1; // ֵ
+				int macroIndex = -1; // A$23中$的索引
+				int numIndex = -1; // 数字的索引
 
 				for (int i = idx + 1; i < last; ++i) {
 					char tmp = str.charAt(i);
@@ -2253,8 +2253,8 @@ abstract public class CellSet implements ICellSet {
 		if ((c >= 0x0001) && (c <= 0x007F)) {
 			start++;
 		} else {
-			// Ǻһ֣ͿԱǨעֵĵԪ
-			// Ҫֺһcharʾcharʾ
+			// 如果是汉字则拆出一个个汉字，这样就可以变迁注释里带汉字的单元格
+			// 不需要区分汉字是由一个char表示还是由两个char表示
 			return start + 1;
 		}
 		
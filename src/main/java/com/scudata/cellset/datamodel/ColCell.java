@@ -12,20 +12,20 @@ public class ColCell implements IColCell {
 	private static final long serialVersionUID = 0x02010012;
 	private final static byte version = (byte) 1;
 
-	// ȡֵ
-	public final static byte VISIBLE_ALWAYS = 0; // ǿɼ
-	public final static byte VISIBLE_ALWAYSNOT = 1; // ǲɼ
-	public final static byte VISIBLE_FIRSTPAGE = 2; // ҳɼ
-	public final static byte VISIBLE_FIRSTPAGENOT = 3; // ҳɼ
+	// 可视属性取值
+	public final static byte VISIBLE_ALWAYS = 0; // 总是可见
+	public final static byte VISIBLE_ALWAYSNOT = 1; // 总是不可见
+	public final static byte VISIBLE_FIRSTPAGE = 2; // 首页可见
+	public final static byte VISIBLE_FIRSTPAGENOT = 3; // 首页不可见
 
 	private int col;
 	private float width = 150.0f;
-	private int level; // 
+	private int level; // 层
 
-	private byte visible; // 
-	private boolean isBreakPage; // кǷҳ
+	private byte visible; // 可视属性
+	private boolean isBreakPage; // 列后是否分页
 
-	// ʱʹ
+	// 存盘时使用
 	public ColCell() {
 	}
 
@@ -34,7 +34,7 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * к
+	 * 返回列号
 	 * @return int
 	 */
 	public int getCol() {
@@ -42,7 +42,7 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * к
+	 * 设置列号
 	 * @param col int
 	 */
 	public void setCol(int col) {
@@ -50,7 +50,7 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * п
+	 * 设置列宽
 	 * @param w float
 	 */
 	public void setWidth(float w) {
@@ -58,7 +58,7 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * п
+	 * 返回列宽
 	 * @return float
 	 */
 	public float getWidth() {
@@ -66,7 +66,7 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * ز
+	 * 返回层号
 	 * @return int
 	 */
 	public int getLevel() {
@@ -74,7 +74,7 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * ò
+	 * 设置层号
 	 * @param level int
 	 */
 	public void setLevel(int level) {
@@ -82,39 +82,39 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * Ƿɼ
-	 * @return byte ȡֵ VISIBLE_ALWAYSVISIBLE_ALWAYSNOTVISIBLE_FIRSTPAGEVISIBLE_FIRSTPAGENOT
+	 * 返列行是否可见
+	 * @return byte 取值 VISIBLE_ALWAYS、VISIBLE_ALWAYSNOT、VISIBLE_FIRSTPAGE、VISIBLE_FIRSTPAGENOT
 	 */
 	public byte getVisible(){
 		return visible;
 	}
 
 	/**
-	 * Ƿɼ
-	 * @param b byte ȡֵ VISIBLE_ALWAYSVISIBLE_ALWAYSNOTVISIBLE_FIRSTPAGEVISIBLE_FIRSTPAGENOT
+	 * 设置列是否可见
+	 * @param b byte 取值 VISIBLE_ALWAYS、VISIBLE_ALWAYSNOT、VISIBLE_FIRSTPAGE、VISIBLE_FIRSTPAGENOT
 	 */
 	public void setVisible(byte b){
 		visible = b;
 	}
 
 	/**
-	 * @return кǷҳ
+	 * @return 返回列后是否分页
 	 */
 	public boolean isBreakPage(){
 		return isBreakPage;
 	}
 
 	/**
-	 * кǷҳ
-	 * @param b Ϊtrueкҳ򲻷ҳ
+	 * 设置列后是否分页
+	 * @param b 为true则列后分页，否则不分页
 	 */
 	public void setBreakPage(boolean b){
 		isBreakPage = b;
 	}
 
 	/**
-	 * ȿ¡
-	 * @return ¡Ķ
+	 * 深度克隆
+	 * @return 克隆出的对象
 	 */
 	public Object deepClone(){
 		ColCell cell = new ColCell(col);
@@ -127,8 +127,8 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * дݵ
-	 * @param out ObjectOutput 
+	 * 写内容到流
+	 * @param out ObjectOutput 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -143,8 +143,8 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * ж
-	 * @param in ObjectInput 
+	 * 从流中读内容
+	 * @param in ObjectInput 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -160,9 +160,9 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * дݵ
+	 * 写内容到流
 	 * @throws IOException
-	 * @return 
+	 * @return 输出流
 	 */
 	public byte[] serialize() throws IOException{
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -176,7 +176,7 @@ public class ColCell implements IColCell {
 	}
 
 	/**
-	 * ж
+	 * 从流中读内容
 	 * @param buf byte[]
 	 * @throws IOException
 	 * @throws ClassNotFoundException
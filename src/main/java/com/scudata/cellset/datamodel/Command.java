@@ -17,7 +17,7 @@ import com.scudata.expression.ParamParser;
 import com.scudata.resources.EngineMessage;
 
 /**
- * 䣬iffor
+ * 程序网格里的语句，if、for等
  * @author WangXiaoJun
  *
  */
@@ -34,7 +34,7 @@ public class Command {
 	public static final byte FUNC = 8;
 	public static final byte RETURN = 9;
 	public static final byte END = 10;
-	public static final byte RESULT = 11; // 񷵻ֵ
+	public static final byte RESULT = 11; // 网格返回值
 
 	public static final byte SQL = 12;
 	public static final byte CLEAR = 13;
@@ -44,8 +44,8 @@ public class Command {
 	public static final byte REDUCE = 16;
 	public static final byte GOTO = 17;
 	
-	public static final byte CHANNEL = 18; // ܵ
-	public static final byte TRY = 19; // 쳣׽
+	public static final byte CHANNEL = 18; // 管道
+	public static final byte TRY = 19; // 异常捕捉
 
 	private static final HashMap<String, Byte> keyMap = new HashMap<String, Byte>(20);
 	static {
@@ -72,31 +72,31 @@ public class Command {
 		keyMap.put("try", new Byte(TRY));
 	}
 
-	private byte type; // 
+	private byte type; // 命令类型
 
 	/**
-	 * goto  Ԫλ
-	 * break  forڸλ
-	 * next  forڸλ
+	 * goto：  单元格位置
+	 * break  for所在格的位置
+	 * next：  for所在格的位置
 	 */
 	private String lctStr;
 	private CellLocation lct;
 
 	/**
-	 * if    ʽ
-	 * elseif: ʽ
-	 * for   ѭбʽ
-	 * func c  ʽ
-	 * returnֵʽ
+	 * if：    条件表达式
+	 * elseif: 条件表达式
+	 * for：   循环序列表达式
+	 * func c：  参数表达式
+	 * return：返回值表达式
 	 */
 	protected String expStr;
 	private IParam param;
 
 	/**
-	 * 
-	 * @param type 
-	 * @param lctStr Ԫʶ
-	 * @param expStr ʽ
+	 * 构建语句对象
+	 * @param type 语句类型
+	 * @param lctStr 单元格标识符
+	 * @param expStr 表达式串
 	 */
 	public Command(byte type, String lctStr, String expStr) {
 		this.type = type;
@@ -116,9 +116,9 @@ public class Command {
 	}
 
 	/**
-	 * ȡõĵԪ
-	 * @param ctx 
-	 * @return Ԫλ
+	 * 取语句引用的单元格
+	 * @param ctx 计算上下文
+	 * @return 单元格位置
 	 */
 	public CellLocation getCellLocation(Context ctx) {
 		if (lct != null) {
@@ -137,15 +137,15 @@ public class Command {
 	}
 
 	/**
-	 * ȡʽַ
-	 * @return ʽַ
+	 * 取语句参数表达式字符串
+	 * @return 参数表达式字符串
 	 */
 	public String getExpression() {
 		return expStr;
 	}
 
 	/**
-	 * ȡĲ
+	 * 取语句的参数
 	 * @param cs
 	 * @param ctx
 	 * @return
@@ -159,10 +159,10 @@ public class Command {
 	}
 	
 	/**
-	 * ȡӦıʽֻһ
-	 * @param cs 
-	 * @param ctx 
-	 * @return ʽ
+	 * 取语句参数对应的表达式，此语句只有一个参数
+	 * @param cs 网格
+	 * @param ctx 计算上下文
+	 * @return 表达式对象
 	 */
 	public Expression getExpression(ICellSet cs, Context ctx) {
 		IParam param = getParam(cs, ctx);
@@ -181,10 +181,10 @@ public class Command {
 	}
 
 	/**
-	 * ȡӦıʽ飬ж
-	 * @param cs 
-	 * @param ctx 
-	 * @return ʽ
+	 * 取语句参数对应的表达式数组，此语句可以有多个参数
+	 * @param cs 网格
+	 * @param ctx 计算上下文
+	 * @return 表达式对象数组
 	 */
 	public Expression[] getExpressions(ICellSet cs, Context ctx) {
 		IParam param = getParam(cs, ctx);
@@ -205,26 +205,26 @@ public class Command {
 	}
 
 	/**
-	 * жϱǷresult
-	 * @param cmdStr ʽ
-	 * @return trueǣfalse
+	 * 判断表达是否是result语句
+	 * @param cmdStr 表达式串
+	 * @return true：是，false：不是
 	 */
 	public static boolean isResultCommand(String cmdStr) {
 		return cmdStr.startsWith("result");
 	}
 
 	/**
-	 * жϱǷsql
-	 * @param cmdStr ʽ
-	 * @return trueǣfalse
+	 * 判断表达是否是sql语句
+	 * @param cmdStr 表达式串
+	 * @return true：是，false：不是
 	 */
 	public static boolean isSqlCommand(String cmdStr) {
 		return cmdStr != null && cmdStr.length() > 0 && cmdStr.charAt(0) == '$';
 	}
 
 	/**
-	 * жϱʽǷ
-	 * @param cmdStr ʽ
+	 * 判断表达式是否是语句
+	 * @param cmdStr 表达式串
 	 * @return
 	 */
 	public static boolean isCommand(String cmdStr) {
@@ -245,9 +245,9 @@ public class Command {
 	}
 
 	/**
-	 * ѴӦ
-	 * @param cmdStrʽ
-	 * @return 
+	 * 把串解析成相应的语句
+	 * @param cmdStr表达式串
+	 * @return 语句
 	 */
 	public static Command parse(String cmdStr) {
 		if (cmdStr == null || cmdStr.length() == 0) {
@@ -270,7 +270,7 @@ public class Command {
 		}
 	}
 
-	// ڵַ
+	// 跳过引号内的字符
 	private static int scanSemicolon(String str, int start) {
 		int idx = 0, len = str.length();
 		while(idx < len) {
@@ -284,7 +284,7 @@ public class Command {
 				
 				idx ++;
 			} else if (ch == '{') {
-				// Ǽʽܺ
+				// 花括号内是集算器表达式可能含引号
 				idx = Sentence.scanBrace(str, idx);
 				if(idx < 0) {
 					MessageManager mm = EngineMessage.get();
@@ -366,7 +366,7 @@ public class Command {
 		case END:
 		case FORK:
 		case CHANNEL:
-		case FUNC: // func fn(arg,)
+		case FUNC: // func fn(arg,…)
 			exp = param;
 			break;
 		case CONTINUE:
@@ -401,10 +401,10 @@ public class Command {
 	}
 	
 	/**
-	 * ȡõĵԪ
-	 * @param cs 
-	 * @param ctx 
-	 * @param resultList õ
+	 * 取语句引用到的单元格
+	 * @param cs 网格对象
+	 * @param ctx 计算上下文
+	 * @param resultList 输出参数，存放引用到的网格
 	 */
 	public void getUsedCells(ICellSet cs, Context ctx, List<INormalCell> resultList) {
 		IParam param = getParam(cs, ctx);
@@ -14,36 +14,36 @@ import com.scudata.common.CellLocation;
 abstract public class NormalCell implements INormalCell {
 	private static final long serialVersionUID = 0x02010014;
 
-	// Ԫ
-	public final static int TYPE_CALCULABLE_CELL  = 0x00000001; //  =
-	public final static int TYPE_CALCULABLE_BLOCK = 0x00000002; //  ==
-	public final static int TYPE_EXECUTABLE_CELL  = 0x00000004; // ִи >
-	public final static int TYPE_EXECUTABLE_BLOCK = 0x00000008; // ִп >>
-	public final static int TYPE_COMMAND_CELL     = 0x00000010; // 
-	public final static int TYPE_CONST_CELL       = 0x00000020; // 
-	public final static int TYPE_NOTE_CELL        = 0x00000040; // ע͸ /
-	public final static int TYPE_NOTE_BLOCK       = 0x00000080; // עͿ //
-	public final static int TYPE_BLANK_CELL       = 0x00000100; // հ׸
+	// 单元格类型
+	public final static int TYPE_CALCULABLE_CELL  = 0x00000001; // 计算格 =
+	public final static int TYPE_CALCULABLE_BLOCK = 0x00000002; // 计算块 ==
+	public final static int TYPE_EXECUTABLE_CELL  = 0x00000004; // 执行格 >
+	public final static int TYPE_EXECUTABLE_BLOCK = 0x00000008; // 执行块 >>
+	public final static int TYPE_COMMAND_CELL     = 0x00000010; // 语句格
+	public final static int TYPE_CONST_CELL       = 0x00000020; // 常数格
+	public final static int TYPE_NOTE_CELL        = 0x00000040; // 注释格 /
+	public final static int TYPE_NOTE_BLOCK       = 0x00000080; // 注释块 //
+	public final static int TYPE_BLANK_CELL       = 0x00000100; // 空白格
 
 	protected CellSet cs;
 	protected int row;
 	protected int col;
-	protected String expStr; // ʽַ
+	protected String expStr; // 表达式字符串
 	protected String tip;
 
 	protected Object value;
 
 	/**
-	 * лʱʹ
+	 * 序列化时使用
 	 */
 	public NormalCell() {
 	}
 
 	/**
-	 * Ԫ
-	 * @param cs CellSet Ԫ
-	 * @param r int к
-	 * @param c int к
+	 * 构建单元格
+	 * @param cs CellSet 单元格所属的网格
+	 * @param r int 行号
+	 * @param c int 列号
 	 */
 	public NormalCell(CellSet cs, int r, int c) {
 		row = r;
@@ -52,7 +52,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * ȡõǰԪк
+	 * 取得当前单元格的行号
 	 * @return int
 	 */
 	public int getRow() {
@@ -60,7 +60,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * ȡõǰԪк
+	 * 取得当前单元格的列号
 	 * @return int
 	 */
 	public int getCol() {
@@ -68,7 +68,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * õǰк
+	 * 设置当前的行号
 	 * @param r int
 	 */
 	public void setRow(int r) {
@@ -76,7 +76,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * õǰк
+	 * 设置当前的列号
 	 * @param c int
 	 */
 	public void setCol(int c) {
@@ -84,7 +84,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * õԪ
+	 * 设置单元格所属的网格
 	 * @param cs ICellSet
 	 */
 	public void setCellSet(ICellSet cs) {
@@ -92,7 +92,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * صԪ
+	 * 返回单元格所属的网格
 	 * @return ICellSet
 	 */
 	public ICellSet getCellSet() {
@@ -100,7 +100,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * صԪʶ
+	 * 返回单元格标识
 	 * @return String
 	 */
 	public String getCellId() {
@@ -108,7 +108,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * õԪʽ
+	 * 设置单元格表达式
 	 * @param exp String
 	 */
 	public void setExpString(String exp) {
@@ -116,14 +116,14 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * @return String صԪʽ
+	 * @return String 返回单元格表达式
 	 */
 	public String getExpString() {
 		return expStr;
 	}
 
 	/**
-	 * õԪֵ
+	 * 设置单元格值
 	 * @param value Object
 	 */
 	public void setValue(Object value) {
@@ -131,7 +131,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * صԪֵûм򷵻ؿ
+	 * 返回单元格值，没有计算则返回空
 	 * @return Object
 	 */
 	public Object getValue() {
@@ -139,15 +139,15 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * صԪֵûм
+	 * 返回单元格值，没有计算则计算它
 	 * @param doCalc boolean
 	 * @return Object
 	 */
 	abstract public Object getValue(boolean doCalc);
 
 	/**
-	 * дݵ
-	 * @param out ObjectOutput 
+	 * 写内容到流
+	 * @param out ObjectOutput 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
@@ -162,13 +162,13 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * ж
-	 * @param in ObjectInput 
+	 * 从流中读内容
+	 * @param in ObjectInput 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
 	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-		in.readByte(); // 汾
+		in.readByte(); // 版本
 
 		cs = (CellSet) in.readObject();
 		row = in.readInt();
@@ -179,9 +179,9 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * дݵ
+	 * 写内容到流
 	 * @throws IOException
-	 * @return 
+	 * @return 输出流
 	 */
 	public byte[] serialize() throws IOException{
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -195,7 +195,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * ж
+	 * 从流中读内容
 	 * @param buf byte[]
 	 * @throws IOException
 	 * @throws ClassNotFoundException
@@ -203,7 +203,7 @@ abstract public class NormalCell implements INormalCell {
 	public void fillRecord(byte[] buf) throws IOException, ClassNotFoundException {
 		ByteArrayInputRecord in = new ByteArrayInputRecord(buf);
 
-		// cellsetCellSet
+		// cellset由CellSet设进来
 		row = in.readInt();
 		col = in.readInt();
 		setExpString(in.readString());
@@ -211,41 +211,41 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * ˵Ԫ
+	 * 计算此单元格
 	 */
 	abstract public void calculate();
 
 	/**
-	 * 赥Ԫ״̬Ϊʼ״̬
+	 * 重设单元格状态为初始状态
 	 */
 	abstract public void reset();
 
 	/**
-	 * صԪ
+	 * 返回单元格类型
 	 * @return int
 	 */
 	abstract public int getType();
 
 	/**
-	 * ǷǼ
+	 * 返回是否是计算块
 	 * @return boolean
 	 */
 	abstract public boolean isCalculableBlock();
 
 	/**
-	 * ǷǼ
+	 * 返回是否是计算格
 	 * @return boolean
 	 */
 	abstract public boolean isCalculableCell();
 
 	/**
-	 * صԪǷҪʽǨ
+	 * 返回单元格是否需要做表达式变迁
 	 * @return boolean
 	 */
 	abstract protected boolean needRegulateString();
 
 	/**
-	 * undoʱָĴ
+	 * undo时恢复产生的错误引用
 	 */
 	public void undoErrorRef() {
 		cs.setCell(row, col, this);
@@ -259,7 +259,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * õԪʾ
+	 * 设置单元格提示
 	 * @param tip String
 	 */
 	public void setTip(String tip) {
@@ -267,7 +267,7 @@ abstract public class NormalCell implements INormalCell {
 	}
 
 	/**
-	 * صԪʾ
+	 * 返回单元格提示
 	 * @return String
 	 */
 	public String getTip() {
@@ -46,48 +46,50 @@ import com.scudata.thread.Job;
 import com.scudata.thread.ThreadPool;
 import com.scudata.util.Variant;
 
-// 
+// 程序网
 public class PgmCellSet extends CellSet {
 	private static final long serialVersionUID = 0x02010010;
-	public static final int PRIVILEGE_FULL = 0; // ȫƣκ
-	public static final int PRIVILEGE_EXEC = 1; // ִֻ
+	public static final int PRIVILEGE_FULL = 0; // 完全控制，可以做任何事情
+	public static final int PRIVILEGE_EXEC = 1; // 只可以执行
 
-	private static final int SIGN_AUTOCALC = 0x00000010; // Զ
+	private static final int SIGN_AUTOCALC = 0x00000010; // 自动计算
 
 	private int sign = 0;
-	private ByteMap customPropMap; // Զ
+	private ByteMap customPropMap; // 自定义属性
 
-	// private String []psws = new String[2]; // 2룬߼ǰ
-	private String pswHash; // hashֵ
-	private int nullPswPrivilege = PRIVILEGE_EXEC; // ½ʱȨ
-	transient private int curPrivilege = PRIVILEGE_FULL; // ǰȨ
+	// private String []psws = new String[2]; // 2级密码，高级别在前
+	private String pswHash; // 密码hash值
+	private int nullPswPrivilege = PRIVILEGE_EXEC; // 无密码登陆时的权限
+	transient private int curPrivilege = PRIVILEGE_FULL; // 当前的权限
 
-	transient protected CellLocation curLct; // ǰĵԪλ
-	transient private Object curDb; // DBObjectthisthisʾļdql
+	transient protected CellLocation curLct; // 当前运算的单元格的位置
+	transient private Object curDb; // DBObject或this，this表示文件简单dql
 
-	transient private LinkedList<CmdCode> stack = new LinkedList<CmdCode>(); // ջ
-	transient private CellLocation parseLct; // ǰڽʽĵԪ
+	transient private LinkedList<CmdCode> stack = new LinkedList<CmdCode>(); // 计算堆栈
+	transient private CellLocation parseLct; // 当前正在解析表达式的单元格
 
-	transient private Sequence resultValue; // result䷵ֵĻḲǰ
+	transient private Sequence resultValue; // result语句返回值，后面的会覆盖前面的
 	transient private int resultCurrent;
-	transient private CellLocation resultLct; // resultڵԪ
+	transient private CellLocation resultLct; // result语句所在单元格
 
-	transient private boolean interrupt; // Ƿùinterrupt
-	transient private boolean isInterrupted; // ʱʹãͣ
+	transient private boolean interrupt; // 是否调用过interrupt
+	transient private boolean isInterrupted; // 计算时使用，暂停后会重置
 	transient private boolean hasReturn = false;
 
-	transient private String name; // DfxManagerʹ
+	transient private String name; // 网名，在DfxManager中使用
+	transient private Object cacheTag; // DfxManager用来判断网是否是从文件的当前版本读出的
+	transient private boolean isParseBound; // 当前解析的表达式是否引用了变量等跟计算上下文相关的对象
 
-	// func fn(arg,)
-	transient private HashMap<String, FuncInfo> fnMap; // [, Ϣ]ӳ
+	// func fn(arg,…)
+	transient private HashMap<String, FuncInfo> fnMap; // [函数名, 函数信息]映射
 
-	private String isvHash; // йܵ14KITʱдdfxʱҪдȨļisvMD5ֵ
+	private String isvHash; // 有功能点14（KIT）时，写出dfx时需要写出授权文件中isv的MD5值
 
 	private static class CmdCode {
-		protected byte type; // Command
-		protected int row; // Commandк
-		protected int col; // Commandк
-		protected int blockEndRow; // CommandĴк
+		protected byte type; // Command类型
+		protected int row; // Command的行号
+		protected int col; // Command的列号
+		protected int blockEndRow; // Command的代码块结束行行号
 
 		public CmdCode(byte type, int r, int c, int endRow) {
 			this.type = type;
@@ -98,7 +100,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	private static abstract class ForCmdCode extends CmdCode {
-		protected int seq = 0; // forѭ
+		protected int seq = 0; // for循环序号
 
 		public ForCmdCode(int r, int c, int endRow) {
 			super(Command.FOR, r, c, endRow);
@@ -224,7 +226,7 @@ public class PgmCellSet extends CellSet {
 		private Context ctx;
 		private Sequence table;
 
-		// private boolean bi = false; // Ƿgroup@i
+		// private boolean bi = false; // 是否用group@i
 
 		public CursorForCmdCode(int r, int c, int endRow, ICursor cursor,
 				int count, Expression gexp, Context ctx) {
@@ -299,13 +301,13 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * жĺϢ
+	 * 网格中定义的函数信息
 	 * @author RunQian
 	 *
 	 */
 	public class FuncInfo {
-		private PgmNormalCell cell; // ڵԪ
-		private String[] argNames; // 
+		private PgmNormalCell cell; // 函数所在单元格
+		private String[] argNames; // 参数名
 
 		public FuncInfo(PgmNormalCell cell, String[] argNames) {
 			this.cell = cell;
@@ -313,7 +315,7 @@ public class PgmCellSet extends CellSet {
 		}
 
 		/**
-		 * ȡڵĵԪ
+		 * 取函数所在的单元格
 		 * @return
 		 */
 		public PgmNormalCell getCell() {
@@ -321,7 +323,7 @@ public class PgmCellSet extends CellSet {
 		}
 
 		/**
-		 * ȡĲ
+		 * 取函数的参数名
 		 * @return
 		 */
 		public String[] getArgNames() {
@@ -333,9 +335,9 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * һָı
-	 * @param row int 
-	 * @param col int 
+	 * 构造一个指定行数和列数的表格
+	 * @param row int 行数
+	 * @param col int 列数
 	 */
 	public PgmCellSet(int row, int col) {
 		super(row, col);
@@ -374,7 +376,7 @@ public class PgmCellSet extends CellSet {
 		}
 	}
 
-	// һµԴĵԪӵԼļ㻷
+	// 创建一个新的网格，新网引用源网的单元格，拥有自己的计算环境
 	public PgmCellSet newCalc() {
 		Matrix m1 = cellMatrix;
 		int colSize = cellMatrix.getColSize();
@@ -398,7 +400,7 @@ public class PgmCellSet extends CellSet {
 		return pcs;
 	}
 
-	// µcursor(c,)ʹ
+	// 生成新的网格供cursor(c,…)使用
 	public PgmCellSet newCursorDFX(INormalCell cell, Object[] args) {
 		int rowCount = getRowCount();
 		int colCount = getColCount();
@@ -408,7 +410,7 @@ public class PgmCellSet extends CellSet {
 		int col = cell.getCol();
 		int endRow = getCodeBlockEndRow(row, col);
 
-		// ĸֻøֵñʽ
+		// 代码块外的格子只引用格值，不设置表达式
 		for (int r = 1; r < row; ++r) {
 			for (int c = 1; c <= colCount; ++c) {
 				Object val = getPgmNormalCell(r, c).getValue();
@@ -437,7 +439,7 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		// Ѳֵ赽funcԪϼĸ
+		// 把参数值设到func单元格上及后面的格子
 		if (args != null) {
 			int paramRow = row;
 			int paramCol = col;
@@ -465,8 +467,8 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ȿ¡
-	 * @return ¡Ķ
+	 * 深度克隆
+	 * @return 克隆出的对象
 	 */
 	public Object deepClone() {
 		PgmCellSet pcs = new PgmCellSet();
@@ -485,7 +487,7 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		// ׸׸
+		// 行首格和列首格
 		for (int col = 1; col < colSize; col++)
 			pcs.cellMatrix.set(0, col, getColCell(col).deepClone());
 		for (int row = 1; row < rowSize; row++)
@@ -507,22 +509,22 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * дݵ
-	 * @param out ObjectOutput 
+	 * 写内容到流
+	 * @param out ObjectOutput 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
 		super.writeExternal(out);
 		out.writeByte(1);
-		out.writeInt(sign); // 뱨4
+		out.writeInt(sign); // 不与报表4集成
 		out.writeObject(customPropMap);
 		out.writeObject(pswHash);
 		out.writeInt(nullPswPrivilege);
 	}
 
 	/**
-	 * ж
-	 * @param in ObjectInput 
+	 * 从流中读内容
+	 * @param in ObjectInput 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
@@ -539,7 +541,7 @@ public class PgmCellSet extends CellSet {
 	public byte[] serialize() throws IOException {
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
 
-		// лԪ
+		// 序列化单元格矩阵
 		int rowCount = getRowCount();
 		int colCount = getColCount();
 		out.writeInt(rowCount);
@@ -560,11 +562,11 @@ public class PgmCellSet extends CellSet {
 		}
 
 		out.writeRecord(paramList);
-		out.writeInt(sign); // 뱨4
+		out.writeInt(sign); // 不与报表4集成
 		out.writeRecord(customPropMap);
 
-		out.writeStrings(null); // Ϊ˼psws
-		out.writeInt(0); // ֮ǰĻ
+		out.writeStrings(null); // 为了兼容psws
+		out.writeInt(0); // 兼容之前的画布
 
 		out.writeString(pswHash);
 		out.writeInt(nullPswPrivilege);
@@ -575,7 +577,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ж
+	 * 从流中读内容
 	 * @param buf byte[]
 	 * @throws IOException
 	 * @throws ClassNotFoundException
@@ -584,7 +586,7 @@ public class PgmCellSet extends CellSet {
 			ClassNotFoundException {
 		ByteArrayInputRecord in = new ByteArrayInputRecord(buf);
 
-		// ɵԪ
+		// 生成单元格矩阵
 		int rowCount = in.readInt();
 		int colCount = in.readInt();
 		cellMatrix = new Matrix(rowCount + 1, colCount + 1);
@@ -610,7 +612,7 @@ public class PgmCellSet extends CellSet {
 		if (in.available() > 0) {
 			in.readStrings();
 			if (in.available() > 0) {
-				in.readInt(); // ֮ǰĻ
+				in.readInt(); // 兼容之前的画布
 				if (in.available() > 0) {
 					pswHash = in.readString();
 					nullPswPrivilege = in.readInt();
@@ -622,18 +624,18 @@ public class PgmCellSet extends CellSet {
 		}
 	}
 
-	// else
+	// 跳过else代码块
 	private void skipCodeBlock() {
 		int curRow = curLct.getRow();
 		int curCol = curLct.getCol();
 		int endBlock = getCodeBlockEndRow(curRow, curCol);
 
-		// һҪִеĵԪ赽ĵԪ
+		// 下一个要执行的单元格设到代码块后的单元格
 		setNext(endBlock + 1, 1, true);
 	}
 
-	// һҪִеĸ赽ifӦelseһ
-	// ǰΪif
+	// 把下一个要执行的格设到if所对应的else语句的下一格
+	// 当前格为if语句格
 	private void toElseCmd() {
 		int curRow = curLct.getRow();
 		int curCol = curLct.getCol();
@@ -642,20 +644,20 @@ public class PgmCellSet extends CellSet {
 		int level = 0;
 		Command command;
 
-		// ڱѰelse֧
+		// 在本行中寻找else分支
 		for (int c = curCol + 1; c <= totalCol; ++c) {
 			PgmNormalCell cell = getPgmNormalCell(curRow, c);
 			if ((command = cell.getCommand()) != null) {
 				byte type = command.getType();
 				if (type == Command.ELSE) {
-					if (level == 0) { // ҵӦelse֧
+					if (level == 0) { // 找到对应的else分支
 						setNext(curRow, c + 1, false);
 						return;
 					} else {
 						level--;
 					}
 				} else if (type == Command.ELSEIF) {
-					if (level == 0) { // ҵӦelseif֧
+					if (level == 0) { // 找到对应的elseif分支
 						setNext(curRow, c, false);
 						runIfCmd(cell, command);
 						return;
@@ -666,14 +668,14 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		// 
+		// 跳过代码块
 		int endBlock = getCodeBlockEndRow(curRow, curCol);
 		int nextRow = endBlock + 1;
 		if (nextRow <= getRowCount()) {
 			for (int c = 1; c <= totalCol; ++c) {
 				PgmNormalCell cell = getPgmNormalCell(nextRow, c);
 				if (!cell.isBlankCell()) {
-					if (c != curCol) { // ûelse֧
+					if (c != curCol) { // 没有else分支
 						setNext(nextRow, c, true);
 					} else {
 						command = cell.getCommand();
@@ -681,9 +683,9 @@ public class PgmCellSet extends CellSet {
 							setNext(nextRow, c, true);
 						} else {
 							byte type = command.getType();
-							if (type == Command.ELSE) { // ҵӦelse֧
+							if (type == Command.ELSE) { // 找到对应的else分支
 								setNext(nextRow, c + 1, false);
-							} else if (type == Command.ELSEIF) { // ҵӦelseif֧
+							} else if (type == Command.ELSEIF) { // 找到对应的elseif分支
 								setNext(nextRow, c, false);
 								runIfCmd(cell, command);
 							} else {
@@ -695,7 +697,7 @@ public class PgmCellSet extends CellSet {
 				}
 			}
 		} else {
-			setNext(nextRow, 1, true); // ѭ
+			setNext(nextRow, 1, true); // 可能在循环或函数里
 		}
 	}
 
@@ -704,19 +706,19 @@ public class PgmCellSet extends CellSet {
 		int totalCol = getColCount();
 		Command command;
 
-		// ڱѰelse֧
+		// 在本行中寻找else分支
 		for (int c = pcol + 1; c <= totalCol; ++c) {
 			PgmNormalCell cell = getPgmNormalCell(prow, c);
 			if ((command = cell.getCommand()) != null) {
 				byte type = command.getType();
 				if (type == Command.ELSE) {
-					if (level == 0) { // ҵӦelse֧
+					if (level == 0) { // 找到对应的else分支
 						return prow;
 					} else {
 						level--;
 					}
 				} else if (type == Command.ELSEIF) {
-					if (level == 0) { // ҵӦelseif֧
+					if (level == 0) { // 找到对应的elseif分支
 						return prow;
 					}
 				} else if (type == Command.IF) {
@@ -725,7 +727,7 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		// 
+		// 跳过代码块
 		int endBlock = getCodeBlockEndRow(prow, pcol);
 		int totalRow = getRowCount();
 		if (endBlock < totalRow) {
@@ -740,9 +742,9 @@ public class PgmCellSet extends CellSet {
 					return endBlock;
 				} else {
 					byte type = command.getType();
-					if (type == Command.ELSE) { // ҵӦelse֧
+					if (type == Command.ELSE) { // 找到对应的else分支
 						return getCodeBlockEndRow(nextRow, c);
-					} else if (type == Command.ELSEIF) { // ҵӦelseif֧
+					} else if (type == Command.ELSEIF) { // 找到对应的elseif分支
 						return getIfBlockEndRow(nextRow, c);
 					} else {
 						return endBlock;
@@ -755,7 +757,7 @@ public class PgmCellSet extends CellSet {
 		}
 	}
 
-	// ִif
+	// 执行if程序格
 	private void runIfCmd(NormalCell cell, Command command) {
 		Context ctx = getContext();
 		Expression exp = command.getExpression(this, ctx);
@@ -774,9 +776,9 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * forԪǰѭ #A1
-	 * @param r int forԪк
-	 * @param c int forԪк
+	 * 返回for单元格当前的循环序号 #A1
+	 * @param r int for单元格的行号
+	 * @param c int for单元格的列号
 	 * @return int
 	 */
 	public int getForCellRepeatSeq(int r, int c) {
@@ -796,20 +798,20 @@ public class PgmCellSet extends CellSet {
 				+ mm.getMessage("engine.needInFor"));
 	}
 
-	// ִfor
+	// 执行for程序格
 	private void runForCmd(NormalCell cell, Command command) {
 		int row = curLct.getRow();
 		int col = curLct.getCol();
 		if (stack.size() > 0) {
 			CmdCode cmd = stack.getFirst();
 			if (cmd != null && cmd.row == row && cmd.col == col) {
-				// ִһѭ
+				// 执行下一次循环
 				ForCmdCode forCmd = (ForCmdCode) cmd;
 				if (forCmd.hasNextValue()) {
 					cell.setValue(forCmd.nextValue());
-					setNext(row, col + 1, false); // ִһԪ
+					setNext(row, col + 1, false); // 执行下一单元格
 				} else {
-					// ѭ
+					// 跳出循环
 					cell.setValue(forCmd.endValue());
 					stack.removeFirst();
 					setNext(cmd.blockEndRow + 1, 1, true);
@@ -819,7 +821,7 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		// ״ִѭѭ
+		// 首次执行循环，计算循环变量
 		ForCmdCode cmdCode;
 		Context ctx = getContext();
 		int endRow = getCodeBlockEndRow(row, col);
@@ -896,7 +898,7 @@ public class PgmCellSet extends CellSet {
 					stack.addFirst(cmdCode);
 					setNext(row, col + 1, false);
 				} else {
-					setNext(endRow + 1, 1, true); // ѭ
+					setNext(endRow + 1, 1, true); // 跳出循环
 				}
 
 				return;
@@ -965,7 +967,7 @@ public class PgmCellSet extends CellSet {
 			stack.addFirst(cmdCode);
 			setNext(row, col + 1, false);
 		} else {
-			setNext(endRow + 1, 1, true); // ѭ
+			setNext(endRow + 1, 1, true); // 跳出循环
 		}
 	}
 
@@ -990,7 +992,7 @@ public class PgmCellSet extends CellSet {
 		}
 
 		for (int i = 0; i < index; ++i) {
-			// ڲforѭ
+			// 跳出内部for循环
 			CmdCode cmd = stack.removeFirst();
 			if (cmd.type == Command.FOR) {
 				endForCommand((ForCmdCode) cmd);
@@ -1022,7 +1024,7 @@ public class PgmCellSet extends CellSet {
 		}
 
 		for (int i = 0; i < index; ++i) {
-			// ڲforѭ
+			// 跳出内部for循环
 			CmdCode cmd = stack.removeFirst();
 			if (cmd.type == Command.FOR) {
 				endForCommand((ForCmdCode) cmd);
@@ -1054,7 +1056,7 @@ public class PgmCellSet extends CellSet {
 				if (r == cmd.row) {
 					index = i;
 				} else {
-					// ѭڵǰĿհ׸
+					// 不能跳到循环内的前面的空白格
 					MessageManager mm = EngineMessage.get();
 					throw new RQException(
 							mm.getMessage("cellset.invalidGotoCell"));
@@ -1065,7 +1067,7 @@ public class PgmCellSet extends CellSet {
 		}
 
 		for (int i = 0; i <= index; ++i) {
-			// ڲforѭ
+			// 跳出内部for循环
 			CmdCode cmd = stack.removeFirst();
 			if (cmd.type == Command.FOR) {
 				endForCommand((ForCmdCode) cmd);
@@ -1075,14 +1077,14 @@ public class PgmCellSet extends CellSet {
 		setNext(r, c, false);
 	}
 
-	// еѭ
+	// 重设序列的循环序号
 	private void endForCommand(ForCmdCode cmd) {
 		if (cmd instanceof CursorForCmdCode) {
 			((CursorForCmdCode) cmd).close();
 		}
 	}
 
-	// ִfork
+	// 创建用于执行fork命令的网格
 	private PgmCellSet newForkPgmCellSet(int row, int col, int endRow,
 			Context ctx, boolean isLocal) {
 		int rowCount = getRowCount();
@@ -1101,7 +1103,7 @@ public class PgmCellSet extends CellSet {
 
 			pcs.setContext(ctx.newComputeContext());
 		} else {
-			// ʱ˱forkĸЩ͸ֵ
+			// 多机调用时，如果引用了变量和fork代码块外的格子则传送这些变量和格子值
 			ParamList usedParams = new ParamList();
 			ArrayList<INormalCell> usedCells = new ArrayList<INormalCell>();
 
@@ -1139,7 +1141,7 @@ public class PgmCellSet extends CellSet {
 		} while (lct != null && lct.getRow() <= endRow && resultValue == null);
 
 		if (resultValue == null) {
-			// δresultendȱʡشһֵ
+			// 未碰到result和end缺省返回代码中最后一个计算格值
 			int colCount = getColCount();
 			for (int r = endRow; r >= row; --r) {
 				for (int c = colCount; c > col; --c) {
@@ -1169,7 +1171,7 @@ public class PgmCellSet extends CellSet {
 		}
 	}
 
-	// жforkǷforkforkִ
+	// 判断fork后是否紧跟着fork，连续的fork并行执行
 	private boolean isNextCommandBlock(int prevEndRow, int col, byte cmdType) {
 		int totalRowCount = getRowCount();
 		if (prevEndRow == totalRowCount) {
@@ -1199,11 +1201,11 @@ public class PgmCellSet extends CellSet {
 		int endRow = getCodeBlockEndRow(row, col);
 		IParam param = command.getParam(this, ctx);
 
-		// ֻеfork
+		// 只有单个fork
 		if (!isNextCommandBlock(endRow, col, Command.FORK)) {
 			runForkCmd(param, row, col, endRow, ctx);
 		} else {
-			// forkִ
+			// 多个连续的fork并行执行
 			ArrayList<SubForkJob> list = new ArrayList<SubForkJob>();
 			while (true) {
 				SubForkJob job = new SubForkJob(param, row, col, endRow, ctx);
@@ -1237,7 +1239,7 @@ public class PgmCellSet extends CellSet {
 		setNext(endRow + 1, 1, true);
 	}
 
-	// fork .;h,s
+	// fork ….;h,s
 	private void runForkxCmd(IParam param, int row, int col, int endRow,
 			Context ctx) {
 		if (param.getSubSize() != 2) {
@@ -1267,8 +1269,8 @@ public class PgmCellSet extends CellSet {
 		String[] hosts = mc.getHosts();
 		int[] ports = mc.getPorts();
 
-		int mcount = -1; // 
-		Object[] args = null; // 
+		int mcount = -1; // 并行数
+		Object[] args = null; // 参数
 		if (leftParam == null) {
 		} else if (leftParam.isLeaf()) {
 			Object val = leftParam.getLeafExpression().calculate(ctx);
@@ -1312,7 +1314,7 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		// fork񴫸ڵ
+		// 复制fork代码块成新网格传给节点机
 		PgmCellSet pcs = newForkPgmCellSet(row, col, endRow, ctx, false);
 		ParallelCaller caller = new ParallelCaller(pcs, hosts, ports);
 		caller.setContext(ctx);
@@ -1320,7 +1322,7 @@ public class PgmCellSet extends CellSet {
 		// caller.setOptions("a");
 		// }
 
-		// ûжӦreduce
+		// 查找有没有对应的reduce
 		int nextRow = endRow + 1;
 		if (nextRow <= getRowCount()) {
 			Command command = getPgmNormalCell(nextRow, col).getCommand();
@@ -1334,7 +1336,7 @@ public class PgmCellSet extends CellSet {
 		}
 
 		if (args != null) {
-			// ͨݲȻforkڸıʽΪ=
+			// 通过网格变量传递参数，然后设置fork所在格的表达式为=变量
 			final String pname = "tmp_fork_param";
 			ParamList pl = pcs.getParamList();
 			if (pl == null) {
@@ -1385,7 +1387,7 @@ public class PgmCellSet extends CellSet {
 		getPgmNormalCell(row, col).setValue(result);
 	}
 
-	// ִfork
+	// 执行fork程序格
 	private void runForkCmd(IParam param, int row, int col, int endRow,
 			Context ctx) {
 		Object[] args;
@@ -1421,8 +1423,8 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		int pcount = args.length; // 
-		int mcount = -1; // 
+		int pcount = args.length; // 参数个数
+		int mcount = -1; // 并行数
 		for (int i = 0; i < pcount; ++i) {
 			if (args[i] instanceof Sequence) {
 				int len = ((Sequence) args[i]).length();
@@ -1452,7 +1454,7 @@ public class PgmCellSet extends CellSet {
 
 		try {
 			for (int i = 0; i < mcount; ++i) {
-				// αһģα︽ӵͬһĻӰ
+				// 如果是游标重新设置一下上下文，否则游标里附加的运算用同一个上下文会受影响
 				PgmCellSet pcs = newForkPgmCellSet(row, col, endRow, ctx, true);
 				Context newCtx = pcs.getContext();
 
@@ -1523,12 +1525,12 @@ public class PgmCellSet extends CellSet {
 		int col = curLct.getCol();
 		int endRow = getCodeBlockEndRow(row, col);
 
-		// ÿchannelڵĸӴܵΪԪֵ
+		// 对每个channel所在的格子创建管道，并设为单元格值
 		ArrayList<PgmNormalCell> cellList = new ArrayList<PgmNormalCell>();
 		PgmNormalCell cell = getPgmNormalCell(row, col);
 
-		// ܵٸα긽push㣬Ϊαܵfetch@0һ
-		// ûܵ㣬α껺򲻻ִйܵӵ
+		// 定义完管道的运算再给游标附件push运算，因为游标可能调用fetch@0缓存了一部分数据
+		// 如果还没定义完管道的运算，则游标缓存的数据则不会执行管道后来附加的运算
 		Channel channel = cs.newChannel(ctx, false);
 		cell.setValue(channel);
 		cellList.add(cell);
@@ -1540,7 +1542,7 @@ public class PgmCellSet extends CellSet {
 
 		channel.addPushToCursor(cs);
 
-		// channel
+		// 找连续不带参数的channel代码块
 		while (isNextCommandBlock(endRow, col, Command.CHANNEL)) {
 			row = endRow + 1;
 			cell = getPgmNormalCell(row, col);
@@ -1561,7 +1563,7 @@ public class PgmCellSet extends CellSet {
 			channel.addPushToCursor(cs);
 		}
 
-		// α
+		// 遍历游标数据
 		if (cs instanceof MultipathCursors) {
 			MultipathCursors mcs = (MultipathCursors) cs;
 			ICursor[] cursors = mcs.getCursors();
@@ -1589,7 +1591,7 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		// ȡܵļԪ
+		// 取出管道的计算结果设给单元格
 		for (PgmNormalCell chCell : cellList) {
 			channel = (Channel) chCell.getValue();
 			chCell.setValue(channel.result());
@@ -1619,7 +1621,7 @@ public class PgmCellSet extends CellSet {
 		getCell(r, c).setValue(resultValue);
 		resultLct = new CellLocation(r, c);
 		
-		// αҪreturnԲִУõĵطԼжǷ
+		// 程序网游标需要多个return，所以不结束程序执行，调用的地方自己判断是否结束
 		setNext(r, c + 1, false);
 		//runFinished();
 	}
@@ -1659,7 +1661,7 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		// 
+		// 跳过代码块
 		// int endRow = getCodeBlockEndRow(curLct.getRow(), curLct.getCol());
 		String sql = command.getSql();
 		if (sql == null) {
@@ -1721,7 +1723,7 @@ public class PgmCellSet extends CellSet {
 		}
 
 		cell.setValue(val);
-		// 
+		// 跳过代码块
 		// setNext(endRow + 1, 1, true);
 		setNext(curLct.getRow(), curLct.getCol() + 1, false);
 	}
@@ -1756,7 +1758,7 @@ public class PgmCellSet extends CellSet {
 		int right;
 		int bottom;
 
-		// дA1:ʾA1ΪĴֵ
+		// 仅写A1:表示清除以A1为主格的代码块格值
 		if (endParam == null) {
 			right = getColCount();
 			bottom = getCodeBlockEndRow(top, left);
@@ -1774,13 +1776,13 @@ public class PgmCellSet extends CellSet {
 		}
 
 		if (top <= bottom) {
-			if (left <= right) { //  - 
+			if (left <= right) { // 左上 - 右下
 				for (int r = top; r <= bottom; ++r) {
 					for (int c = left; c <= right; ++c) {
 						cs.getCell(r, c).setValue(null);
 					}
 				}
-			} else { //  - 
+			} else { // 右上 - 左下
 				for (int r = top; r <= bottom; ++r) {
 					for (int c = left; c >= right; --c) {
 						cs.getCell(r, c).setValue(null);
@@ -1788,13 +1790,13 @@ public class PgmCellSet extends CellSet {
 				}
 			}
 		} else {
-			if (left <= right) { //  - 
+			if (left <= right) { // 左下 - 右上
 				for (int r = top; r >= bottom; --r) {
 					for (int c = left; c <= right; ++c) {
 						cs.getCell(r, c).setValue(null);
 					}
 				}
-			} else { //  - 
+			} else { // 右下 - 左上
 				for (int r = top; r >= bottom; --r) {
 					for (int c = left; c >= right; --c) {
 						cs.getCell(r, c).setValue(null);
@@ -1865,26 +1867,26 @@ public class PgmCellSet extends CellSet {
 		}
 	}
 
-	// һҪִеĵԪ
+	// 设置下一个要执行的单元格
 	public void setNext(int row, int col, boolean isCheckStack) {
 		int colCount = getColCount();
 		if (col > colCount) {
 			row++;
 			col = 1;
-			isCheckStack = true; // мջ
+			isCheckStack = true; // 换行检查堆栈
 		}
 
 		if (isCheckStack) {
 			while (stack.size() > 0) {
-				// һҪִеĵԪǷڴ鷶Χ
+				// 下一个要执行的单元格是否在代码块范围内
 				CmdCode cmd = stack.getFirst();
 				if (row > cmd.blockEndRow) {
 					if (cmd.type == Command.FOR) {
-						// һѭ
+						// 继续下一次循环
 						curLct.set(cmd.row, cmd.col);
 						return;
 					} else {
-						// try飬ջ
+						// 跳出try块，继续检查堆栈
 						stack.removeFirst();
 					}
 				} else {
@@ -1896,11 +1898,11 @@ public class PgmCellSet extends CellSet {
 		if (row > getRowCount()) {
 			runFinished();
 		} else {
-			// յԪע͸񡢳
+			// 跳过空单元格、注释格、常数格
 			PgmNormalCell cell = getPgmNormalCell(row, col);
 			if (cell.isBlankCell() || cell.isNoteCell() || cell.isConstCell()) {
 				setNext(row, col + 1, false);
-			} else if (cell.isNoteBlock()) { // עͿ
+			} else if (cell.isNoteBlock()) { // 跳过注释块
 				setNext(getCodeBlockEndRow(row, col) + 1, 1, true);
 			} else {
 				curLct.set(row, col);
@@ -1909,7 +1911,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * صԪĽк
+	 * 返回单元格代码块的结束行行号
 	 * @param prow int
 	 * @param pcol int
 	 * @return int
@@ -1931,7 +1933,7 @@ public class PgmCellSet extends CellSet {
 	private CellLocation runNext2() {
 		Context ctx = getContext();
 		if (curLct == null) {
-			// ʼִʱһҪִеĸ赽һԪ
+			// 开始执行时把下一个要执行的格设到第一个单元格上
 			curLct = new CellLocation();
 			setNext(1, 1, false);
 			hasReturn = false;
@@ -1940,7 +1942,7 @@ public class PgmCellSet extends CellSet {
 		}
 
 		try {
-			// ִеǰĵԪ񣬲ҳһҪִеĸ
+			// 执行当前的单元格，并找出下一个要执行的格
 			PgmNormalCell cell = getPgmNormalCell(curLct.getRow(),
 					curLct.getCol());
 			Command command = cell.getCommand();
@@ -2043,7 +2045,7 @@ public class PgmCellSet extends CellSet {
 
 	private boolean goCatch(String error) {
 		while (stack.size() > 0) {
-			// һҪִеĵԪǷڴ鷶Χ
+			// 下一个要执行的单元格是否在代码块范围内
 			CmdCode cmd = stack.getFirst();
 			if (cmd.type == Command.TRY) {
 				stack.removeFirst();
@@ -2059,7 +2061,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ִһԪؿִ
+	 * 执行下一个单元格，如果返回空则执行完毕
 	 * @return CellLocation
 	 */
 	public CellLocation runNext() {
@@ -2072,7 +2074,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ӵǰִУֱ
+	 * 从当前格继续执行，直到运算结束
 	 */
 	public void run() {
 		while (true) {
@@ -2084,7 +2086,7 @@ public class PgmCellSet extends CellSet {
 			if (runNext2() == null) {
 				break;
 			} else if (hasReturn()) {
-				// returnִֹͣ
+				// 碰到return则停止执行
 				runFinished();
 				break;
 			}
@@ -2092,7 +2094,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * μгĵԪ񣬷һĽ
+	 * 依次计算代码块中除主格外的单元格，返回最后一个计算格的结果
 	 * @param int row
 	 * @param int col
 	 * @return Object
@@ -2109,7 +2111,7 @@ public class PgmCellSet extends CellSet {
 		if (col == colCount)
 			return null;
 
-		// ֳ
+		// 保存现场
 		CellLocation oldLct = curLct;
 		LinkedList<CmdCode> oldStack = stack;
 		Object retVal = null;
@@ -2119,7 +2121,7 @@ public class PgmCellSet extends CellSet {
 			stack = new LinkedList<CmdCode>();
 
 			int endRow = getCodeBlockEndRow(row, col);
-			setNext(row, col + 1, false); // ִ,Ӹʼִ
+			setNext(row, col + 1, false); // 不执行主格,从子格开始执行
 			for (; curLct != null;) {
 				int curRow = curLct.getRow();
 				if (curRow > endRow)
@@ -2134,7 +2136,7 @@ public class PgmCellSet extends CellSet {
 				}
 			}
 		} finally {
-			// ֳָ
+			// 恢复现场
 			curLct = oldLct;
 			stack = oldStack;
 		}
@@ -2143,9 +2145,9 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ִĳԪѭִд
-	 * @param row int Ԫк
-	 * @param col int Ԫк
+	 * 执行某个单元格，如果是循环块则执行代码块
+	 * @param row int 单元格行号
+	 * @param col int 单元格列号
 	 */
 	public void runCell(int row, int col) {
 		// if (curLct == null) checkLicense();
@@ -2154,7 +2156,7 @@ public class PgmCellSet extends CellSet {
 		if (!cell.needCalculate())
 			return;
 
-		// ֳ
+		// 保存现场
 		CellLocation oldLct = curLct;
 		LinkedList<CmdCode> oldStack = stack;
 
@@ -2220,19 +2222,19 @@ public class PgmCellSet extends CellSet {
 		} finally {
 			// leaveTask();
 
-			// ֳָ
+			// 恢复现场
 			curLct = oldLct;
 			stack = oldStack;
 		}
 	}
 
 	/**
-	 * ִָӵӺɵݹ
-	 * @param row int Ӻڵ
-	 * @param col int Ӻڵ
-	 * @param args Object[] 
-	 * @param opt String iݹãø
-	 * @return Object Ӻֵ
+	 * 执行指定格子的子函数，可递归调用
+	 * @param row int 子函数所在的行
+	 * @param col int 子函数所在的列
+	 * @param args Object[] 参数数组
+	 * @param opt String i：不递归调用，不用复制网格
+	 * @return Object 子函数返回值
 	 */
 	public Object executeFunc(int row, int col, Object[] args, String opt) {
 		PgmNormalCell cell = getPgmNormalCell(row, col);
@@ -2257,7 +2259,7 @@ public class PgmCellSet extends CellSet {
 			return result;
 		}
 
-		// ĸ
+		// 共享函数体外的格子
 		PgmCellSet pcs = newCalc();
 		int colCount = getColCount();
 		for (int r = row; r <= endRow; ++r) {
@@ -2273,13 +2275,13 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ݺȡϢ
-	 * @param fnName 
+	 * 根据函数名取函数信息
+	 * @param fnName 函数名
 	 * @return
 	 */
 	public FuncInfo getFuncInfo(String fnName) {
 		if (fnMap == null) {
-			// жĺɺӳ
+			// 遍历网格中定义的函数，生成函数名映射表
 			fnMap = new HashMap<String, FuncInfo>();
 			int rowCount = getRowCount();
 			int colCount = getColCount();
@@ -2346,11 +2348,11 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ִֵָӺɵݹ
-	 * @param fnName 
-	 * @param args Object[] 
-	 * @param opt String iݹãø
-	 * @return Object Ӻֵ
+	 * 执行指定名字的子函数，可递归调用
+	 * @param fnName 函数名
+	 * @param args Object[] 参数数组
+	 * @param opt String i：不递归调用，不用复制网格
+	 * @return Object 子函数返回值
 	 */
 	public Object executeFunc(String fnName, Object[] args, String opt) {
 		FuncInfo funcInfo = getFuncInfo(fnName);
@@ -2360,11 +2362,11 @@ public class PgmCellSet extends CellSet {
 		int colCount = getColCount();
 		int endRow = getCodeBlockEndRow(row, col);
 
-		// ĸ
+		// 共享函数体外的格子
 		PgmCellSet pcs = newCalc();
 		String[] argNames = funcInfo.getArgNames();
 		if (argNames != null) {
-			// Ѳ赽
+			// 把参数设到上下文中
 			int argCount = argNames.length;
 			if (args == null || args.length != argCount) {
 				MessageManager mm = EngineMessage.get();
@@ -2387,14 +2389,14 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		// ֺͲĺٽ뵥Ԫ
+		// 定义了名字和参数的函数不再将参数填入单元格
 		return pcs.executeFunc(row, col, endRow, null); // args
 	}
 
 	private Object executeFunc(int row, int col, int endRow, Object[] args) {
 		int colCount = getColCount();
 
-		// Ѳֵ赽funcԪϼĸ
+		// 把参数值设到func单元格上及后面的格子
 		if (args != null) {
 			int paramRow = row;
 			int paramCol = col;
@@ -2416,11 +2418,11 @@ public class PgmCellSet extends CellSet {
 		}
 
 		curLct = new CellLocation(row, col);
-		setNext(row, col + 1, false); // Ӹʼִ
+		setNext(row, col + 1, false); // 从子格开始执行
 
 		for (; curLct != null;) {
 			int curRow = curLct.getRow();
-			if (curRow > endRow) { // ˴飬ûreturn
+			if (curRow > endRow) { // 超出了代码块，没有return格
 				break;
 			}
 
@@ -2442,7 +2444,7 @@ public class PgmCellSet extends CellSet {
 			}
 		}
 
-		// δreturnȱʡشһֵ
+		// 未碰到return缺省返回代码块中最后一个计算格值
 		for (int r = endRow; r >= row; --r) {
 			for (int c = colCount; c > col; --c) {
 				PgmNormalCell cell = getPgmNormalCell(r, c);
@@ -2456,11 +2458,11 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ִӺɵݹ
-	 * @param row int Ӻڵ
-	 * @param col int Ӻڵ
-	 * @param args Object[] 
-	 * @return Object Ӻֵ
+	 * 执行子函数，不可递归调用
+	 * @param row int 子函数所在的行
+	 * @param col int 子函数所在的列
+	 * @param args Object[] 参数数组
+	 * @return Object 子函数返回值
 	 */
 	/*
 	 * public Object executeFunc_nr(int row, int col, Object []args) { if (row <
@@ -2473,7 +2475,7 @@ public class PgmCellSet extends CellSet {
 	 * MessageManager mm = EngineMessage.get(); throw new
 	 * RQException(mm.getMessage("engine.callNeedSub")); }
 	 * 
-	 * // Ѳֵ赽funcԪϼĸ if (args != null) { int paramRow = row; int
+	 * // 把参数值设到func单元格上及后面的格子 if (args != null) { int paramRow = row; int
 	 * paramCol = col; for (int i = 0, pcount = args.length; i < pcount; ++i) {
 	 * getPgmNormalCell(paramRow, paramCol).setValue(args[i]); if (paramCol <
 	 * getColCount()) { paramCol++; } else { break; //if (paramRow ==
@@ -2483,28 +2485,28 @@ public class PgmCellSet extends CellSet {
 	 * //paramCol = 1; } } }
 	 * 
 	 * 
-	 * // ֳ CellLocation oldLct = curLct; LinkedList <CmdCode> oldStack =
+	 * // 保存现场 CellLocation oldLct = curLct; LinkedList <CmdCode> oldStack =
 	 * stack;
 	 * 
 	 * try { curLct = new CellLocation(row, col); stack = new LinkedList
-	 * <CmdCode>(); setNext(row, col + 1, false); // Ӹʼִ int endRow =
+	 * <CmdCode>(); setNext(row, col + 1, false); // 从子格开始执行 int endRow =
 	 * getCodeBlockEndRow(row, col);
 	 * 
 	 * for (; curLct != null;) { int curRow = curLct.getRow(); if (curRow >
-	 * endRow) { // ˴飬ûreturn return null; }
+	 * endRow) { // 超出了代码块，没有return格 return null; }
 	 * 
 	 * int curCol = curLct.getCol(); cell = getPgmNormalCell(curRow, curCol);
 	 * cmd = cell.getCommand(); if (cmd == null) { runNext2(); } else if
 	 * (cmd.getType() == Command.RETURN) { Context ctx = getContext();
 	 * Expression exp = cmd.getExpression(this, ctx); if (exp != null) { return
 	 * exp.calculate(ctx); } else { return null; } } else { runNext2(); } } }
-	 * finally { // ֳָ curLct = oldLct; stack = oldStack; }
+	 * finally { // 恢复现场 curLct = oldLct; stack = oldStack; }
 	 * 
 	 * return null; }
 	 */
 
 	/**
-	 * УͷԴֵԱ
+	 * 结束运行，释放资源，格值仍保留
 	 */
 	public void runFinished() {
 		super.runFinished();
@@ -2532,6 +2534,24 @@ public class PgmCellSet extends CellSet {
 		} else {
 			parseLct.set(row, col);
 		}
+		
+		isParseBound = false;
+	}
+	
+	/**
+	 * 解析表达式时遇到了变量、数据库连接、未知标识符等跟计算上下文相关的对象时调用，
+	 * 这样的单元格表达式在网格重置后不能再使用
+	 */
+	public void setParseBound() {
+		isParseBound = true;
+	}
+	
+	/**
+	 * 返回从上一次setParseCurrent开始解析的表达式是否跟计算上下文相关
+	 * @return boolean
+	 */
+	boolean isParseBound() {
+		return isParseBound;
 	}
 
 	// $() $(a) $(a:b)
@@ -2588,7 +2608,7 @@ public class PgmCellSet extends CellSet {
 				if (cell.isBlankCell() || cell.isNoteCell())
 					continue;
 				if (cell.isNoteBlock()) {
-					// עͿ
+					// 跳过注释块
 					r = getCodeBlockEndRow(r, c);
 					break;
 				}
@@ -2608,17 +2628,17 @@ public class PgmCellSet extends CellSet {
 		return null;
 	}
 
-	// callǷж
+	// call是否被中断
 	public boolean isCallInterrupted() {
 		return curLct != null && resultValue == null;
 	}
 
 	/**
-	 * 񣬷resultԪֵ
+	 * 计算网格，返回result单元格的值
 	 * @return Object
 	 */
 	public Object execute() {
-		// һresult
+		// 运算第一个result语句
 		resultValue = null;
 		while (runNext2() != null && resultValue == null) {
 			if (isInterrupted) {
@@ -2636,12 +2656,12 @@ public class PgmCellSet extends CellSet {
 				return resultValue;
 			}
 		} else {
-			// δresultendȱʡشһֵ
+			// 未碰到result和end缺省返回代码中最后一个计算格值
 			return getLastCalculableCellValue();
 		}
 	}
 
-	// ȡһĸֵ
+	// 取最后一个计算格的格值
 	public Object getLastCalculableCellValue() {
 		int colCount = getColCount();
 		for (int r = getRowCount(); r > 0; --r) {
@@ -2660,21 +2680,21 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ʼ񷵻ؽ
+	 * 开始计算网格返回结果
 	 */
 	public void calculateResult() {
 		execute();
 	}
 
 	/**
-	 * Ƿн
+	 * 是否还有结果返回
 	 * @return boolean
 	 */
 	public boolean hasNextResult() {
 		if (resultValue != null && resultValue.length() > 0) {
 			return true;
 		} else if (curLct == null) {
-			return false; // 
+			return false; // 计算完毕
 		} else {
 			resultValue = null;
 			resultCurrent = 0;
@@ -2689,13 +2709,13 @@ public class PgmCellSet extends CellSet {
 		}
 	}
 
-	// Ƿִеreturn
+	// 是否执行到了return语句
 	public boolean hasReturn() {
 		return hasReturn;
 	}
 
 	/**
-	 * ȡһ
+	 * 取下一个结果
 	 * @return Object
 	 */
 	public Object nextResult() {
@@ -2703,7 +2723,7 @@ public class PgmCellSet extends CellSet {
 			return null;
 
 		if (resultCurrent < 1)
-			resultCurrent = 1; // ״ȡ
+			resultCurrent = 1; // 首次取
 
 		Object obj = resultValue.get(resultCurrent);
 		if (resultCurrent < resultValue.length()) {
@@ -2717,7 +2737,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ȡһλ
+	 * 取下一个结果的位置
 	 * @return CellLocation
 	 */
 	public CellLocation nextResultLocation() {
@@ -2727,7 +2747,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * жִУԵԪΪλ
+	 * 中断执行，以单元格为单位
 	 */
 	public void interrupt() {
 		interrupt = true;
@@ -2739,7 +2759,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ǷԶ
+	 * 设置是否自动计算
 	 * @param b boolean
 	 */
 	public void setAutoCalc(boolean b) {
@@ -2751,7 +2771,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ǷԶ
+	 * 返回是否自动计算
 	 * @return boolean
 	 */
 	public boolean isAutoCalc() {
@@ -2765,9 +2785,25 @@ public class PgmCellSet extends CellSet {
 	public String getName() {
 		return name;
 	}
+	
+	/**
+	 * 设置缓存标记，由DfxManager使用
+	 * @param tag 标记
+	 */
+	public void setCacheTag(Object tag) {
+		this.cacheTag = tag;
+	}
+	
+	/**
+	 * 取缓存标记
+	 * @return Object
+	 */
+	public Object getCacheTag() {
+		return cacheTag;
+	}
 
 	/**
-	 * ȡԶӳ
+	 * 取自定义属性映射
 	 * @return ByteMap
 	 */
 	public ByteMap getCustomPropMap() {
@@ -2775,7 +2811,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * Զӳ
+	 * 设置自定义属性映射
 	 * @param map ByteMap
 	 */
 	public void setCustomPropMap(ByteMap map) {
@@ -2785,7 +2821,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * 
+	 * 设置密码
 	 * @param psw String
 	 */
 	public void setPassword(String psw) {
@@ -2802,23 +2838,23 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * ½ʱȨ
-	 * @param p intPRIVILEGE_FULLPRIVILEGE_EXEC
+	 * 设置无密码登陆时的权限
+	 * @param p int：PRIVILEGE_FULL、PRIVILEGE_EXEC
 	 */
 	// public void setNullPasswordPrivilege(int p) {
 	// this.nullPswPrivilege = p;
 	// }
 
 	/**
-	 * ȡ½ʱȨ
-	 * @return intPRIVILEGE_FULLPRIVILEGE_EXEC
+	 * 取无密码登陆时的权限
+	 * @return int：PRIVILEGE_FULL、PRIVILEGE_EXEC
 	 */
 	public int getNullPasswordPrivilege() {
 		return this.nullPswPrivilege;
 	}
 
 	/**
-	 * õǰ
+	 * 设置当前的密码
 	 * @param psw String
 	 */
 	public void setCurrentPassword(String psw) {
@@ -2844,7 +2880,7 @@ public class PgmCellSet extends CellSet {
 	}
 
 	/**
-	 * صǰȨ
+	 * 返回当前网格的权限
 	 * @return int
 	 */
 	public int getCurrentPrivilege() {
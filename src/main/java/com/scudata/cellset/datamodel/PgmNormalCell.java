@@ -15,19 +15,21 @@ import com.scudata.expression.IParam;
 import com.scudata.util.Variant;
 
 /**
- * Ԫ
+ * 程序网单元格对象
  * @author WangXiaoJun
  *
  */
 public class PgmNormalCell extends NormalCell {
 	private static final long serialVersionUID = 0x02010014;
 
-	transient protected SoftReference<Expression> expRef; // ʽãΪ˻ʽ
-	transient private int sign = TYPE_BLANK_CELL; // Ԫ
-	transient private Command command; // ˵ԪΪӦӦ䣬Ϊ
+	transient protected SoftReference<Expression> expRef; // 表达式软引用，为了缓存表达式
+	transient private int sign = TYPE_BLANK_CELL; // 单元格类型
+	transient private Command command; // 如果此单元格为语句则对应相应的语句，否则为空
 	transient private boolean containMacro = false;;
+	transient private Context expCtx; // 解析表达式时的上下文，表达式跟上下文无关时重置网格后可以继续使用
+	transient private boolean needResetState; // 重置网格后继续使用的表达式需要先重置函数的状态
 
-	// ʱʹ
+	// 存盘时使用
 	public PgmNormalCell() {
 	}
 
@@ -41,21 +43,25 @@ public class PgmNormalCell extends NormalCell {
 
 	public void reset() {
 		if ((sign & TYPE_CONST_CELL) != 0) {
-			// ֵܱ޸
-			if (expStr.startsWith(KeyWord.CONSTSTRINGPREFIX)) { // ַ'
+			// 常数值可能被修改了
+			if (expStr.startsWith(KeyWord.CONSTSTRINGPREFIX)) { // 字符串常数'
 				value = expStr.substring(1);
 			} else {
 				value = Variant.parse(expStr, false);
 			}
 		} else {
 			value = null;
-			expRef = null;
 			command = null;
+			if (expCtx == null) {
+				expRef = null;
+			} else {
+				needResetState = true;
+			}
 		}
 	}
 
 	/**
-	 * õԪʽ
+	 * 设置单元格表达式
 	 * @param exp String
 	 */
 	public void setExpString(String exp) {
@@ -66,28 +72,29 @@ public class PgmNormalCell extends NormalCell {
 		this.expStr = exp;
 		value = null;
 		expRef = null;
+		expCtx = null;
 		command = null;
 
 		if (exp != null && exp.length() > 0) {
-			if (exp.startsWith("==")) { // 
+			if (exp.startsWith("==")) { // 计算块
 				sign = TYPE_CALCULABLE_BLOCK;
 				containMacro = Expression.containMacro(exp);
-			} else if (exp.startsWith("=")) { // 
+			} else if (exp.startsWith("=")) { // 计算格
 				sign = TYPE_CALCULABLE_CELL;
 				containMacro = Expression.containMacro(exp);
-			} else if (exp.startsWith(">>")) { // ִп
+			} else if (exp.startsWith(">>")) { // 执行块
 				sign = TYPE_EXECUTABLE_BLOCK;
 				containMacro = Expression.containMacro(exp);
-			} else if (exp.startsWith(">")) { // ִи
+			} else if (exp.startsWith(">")) { // 执行格
 				sign = TYPE_EXECUTABLE_CELL;
 				containMacro = Expression.containMacro(exp);
-			} else if (exp.startsWith("//")) { // עͿ
+			} else if (exp.startsWith("//")) { // 注释块
 				sign = TYPE_NOTE_BLOCK;
 				//value = exp.substring(2);
-			} else if (exp.startsWith("/")) { // ע͸
+			} else if (exp.startsWith("/")) { // 注释格
 				sign = TYPE_NOTE_CELL;
 				//value = exp.substring(1);
-			} else if (Command.isCommand(exp)) { // 
+			} else if (Command.isCommand(exp)) { // 语句格
 				sign = TYPE_COMMAND_CELL;
 				containMacro = Expression.containMacro(exp);
 			} else {
@@ -100,14 +107,14 @@ public class PgmNormalCell extends NormalCell {
 	}
 
 	public static Object parseConstValue(String str) {
-		if (str.startsWith(KeyWord.CONSTSTRINGPREFIX)) { // ַ'
+		if (str.startsWith(KeyWord.CONSTSTRINGPREFIX)) { // 字符串常数'
 			return str.substring(1);
 		} else {
 			return Variant.parse(str, false);
 		}
 	}
 	
-	// Ԥ$(c)
+	// 预处理$(c)
 	String getMacroReplaceString() {
 		String exp = expStr;
 		if (exp == null) return null;
@@ -140,64 +147,16 @@ public class PgmNormalCell extends NormalCell {
 	}
 
 	/**
-	 * ˵Ԫ
+	 * 计算此单元格
 	 */
 	public void calculate(){
-		Context ctx = cs.getContext();
-		if ((sign & TYPE_CALCULABLE_CELL) != 0) { // =
-			Expression exp;
-			if (expRef == null || (exp = expRef.get()) == null) {
-				cs.setParseCurrent(row, col);
-				exp = new Expression(cs, ctx, expStr.substring(1) + getSubExpString());
-				
-				if (!containMacro()) {
-					expRef = new SoftReference<Expression>(exp);
-				}
-			}
-
-			//value = null; // ͷ֮ǰֵѭͷڴ
-			value = exp.calculate(ctx);
-		} else if ((sign & TYPE_CALCULABLE_BLOCK) != 0) { // ==
-			Expression exp;
-			if (expRef == null || (exp = expRef.get()) == null) {
-				cs.setParseCurrent(row, col);
-				exp = new Expression(cs, ctx, expStr.substring(2) + getSubExpString());
-				
-				if (!containMacro()) {
-					expRef = new SoftReference<Expression>(exp);
-				}
-			}
-
-			//value = null; // ͷ֮ǰֵѭͷڴ
-			value = exp.calculate(ctx);
-		} else if ((sign & TYPE_EXECUTABLE_CELL) != 0) { // >
-			Expression exp;
-			if (expRef == null || (exp = expRef.get()) == null) {
-				cs.setParseCurrent(row, col);
-				if (expStr.charAt(0) == '>') {
-					exp = new Expression(cs, ctx, expStr.substring(1) + getSubExpString());
-				} else {
-					exp = new Expression(cs, ctx, expStr + getSubExpString());
-				}
-
-				if (!containMacro()) {
-					expRef = new SoftReference<Expression>(exp);
-				}
-			}
-
-			exp.calculate(ctx);
-		} else if ((sign & TYPE_EXECUTABLE_BLOCK) != 0) { // >>
-			Expression exp;
-			if (expRef == null || (exp = expRef.get()) == null) {
-				cs.setParseCurrent(row, col);
-				exp = new Expression(cs, ctx, expStr.substring(2) + getSubExpString());
-				
-				if (!containMacro()) {
-					expRef = new SoftReference<Expression>(exp);
-				}
-			}
-
-			exp.calculate(ctx);
+		if ((sign & (TYPE_CALCULABLE_CELL | TYPE_CALCULABLE_BLOCK)) != 0) { // =、==
+			Expression exp = getExpression();
+			//value = null; // 先释放之前的值，用于循环体内释放内存
+			value = exp.calculate(cs.getContext());
+		} else if ((sign & (TYPE_EXECUTABLE_CELL | TYPE_EXECUTABLE_BLOCK)) != 0) { // >、>>
+			Expression exp = getExpression();
+			exp.calculate(cs.getContext());
 		}
 	}
 
@@ -216,9 +175,9 @@ public class PgmNormalCell extends NormalCell {
 			for (int c = startCol; c <= colCount; ++c) {
 				PgmNormalCell cell = pcs.getPgmNormalCell(r, c);
 				if (cell == null || cell.isNoteCell()) {
-					// ע͸
+					// 跳过注释格
 				} else if (cell.isNoteBlock()) {
-					// עͿ
+					// 跳过注释块
 					r = pcs.getCodeBlockEndRow(r, c);
 					break;
 				} else {
@@ -239,20 +198,34 @@ public class PgmNormalCell extends NormalCell {
 
 	public Expression getExpression() {
 		Expression exp = null;
-		if (expRef != null && (exp = expRef.get()) != null) return exp;
-
 		Context ctx = cs.getContext();
+		if (expRef != null && (exp = expRef.get()) != null) {
+			if (expCtx == null || expCtx == ctx) {
+				if (needResetState) {
+					// 上次计算时cum、rank等函数保留的状态不能带到这次计算
+					needResetState = false;
+					exp.resetState();
+				}
+				
+				return exp;
+			}
+			
+			// 网格换了上下文，重新解析
+			expRef = null;
+			expCtx = null;
+		}
+
 		if ((sign & TYPE_CALCULABLE_CELL) != 0) { // =
 			cs.setParseCurrent(row, col);
 			exp = new Expression(cs, ctx, expStr.substring(1) + getSubExpString());
 			if (!containMacro()) {
-				expRef = new SoftReference<Expression>(exp);
+				setExpRef(exp, ctx);
 			}
 		} else if ((sign & TYPE_CALCULABLE_BLOCK) != 0) { // ==
 			cs.setParseCurrent(row, col);
 			exp = new Expression(cs, ctx, expStr.substring(2) + getSubExpString());
 			if (!containMacro()) {
-				expRef = new SoftReference<Expression>(exp);
+				setExpRef(exp, ctx);
 			}
 		} else if ((sign & TYPE_EXECUTABLE_CELL) != 0) { // >
 			cs.setParseCurrent(row, col);
@@ -263,21 +236,33 @@ public class PgmNormalCell extends NormalCell {
 			}
 			
 			if (!containMacro()) {
-				expRef = new SoftReference<Expression>(exp);
+				setExpRef(exp, ctx);
 			}
 		} else if ((sign & TYPE_EXECUTABLE_BLOCK) != 0) { // >>
 			cs.setParseCurrent(row, col);
 			exp = new Expression(cs, ctx, expStr.substring(2) + getSubExpString());
 			if (!containMacro()) {
-				expRef = new SoftReference<Expression>(exp);
+				setExpRef(exp, ctx);
 			}
 		}
 
 		return exp;
 	}
 
+	// 缓存解析好的表达式，表达式跟上下文无关时记下上下文，重置网格后可以继续使用
+	// 常数函数优化成的序列、记录常数可能在计算时被修改，包含这种常数的表达式不能在重置后继续使用
+	private void setExpRef(Expression exp, Context ctx) {
+		expRef = new SoftReference<Expression>(exp);
+		needResetState = false;
+		if (cs instanceof PgmCellSet && !((PgmCellSet)cs).isParseBound() && !exp.containMutableConstant()) {
+			expCtx = ctx;
+		} else {
+			expCtx = null;
+		}
+	}
+
 	/**
-	 * صԪӦ
+	 * 返回单元格所对应的语句对象
 	 * @return Command
 	 */
 	public Command getCommand() {
@@ -293,7 +278,7 @@ public class PgmNormalCell extends NormalCell {
 	}
 
 	/**
-	 * Ƿ
+	 * 返回是否语句格
 	 * @return boolean
 	 */
 	public boolean isCommandCell() {
@@ -301,14 +286,14 @@ public class PgmNormalCell extends NormalCell {
 	}
 
 	/**
-	 * Ƿ
+	 * 返回是否结果格
 	 * @return boolean
 	 */
 	public boolean isResultCell() {
 		return isCommandCell() && Command.isResultCommand(expStr);
 	}
 
-	// صԪǷҪ
+	// 返回单元格是否需要计算
 	boolean needCalculate() {
 		int tmp = TYPE_CALCULABLE_CELL | TYPE_CALCULABLE_BLOCK |
 			TYPE_EXECUTABLE_CELL | TYPE_EXECUTABLE_BLOCK | TYPE_COMMAND_CELL;
@@ -316,25 +301,25 @@ public class PgmNormalCell extends NormalCell {
 	}
 
 	/**
-	 * صԪǷǿհ׸񣬼ûбʽ
+	 * 返回单元格是否是空白格，即没有表达式
 	 * @return boolean
 	 */
 	public boolean isBlankCell() {
 		return (sign & TYPE_BLANK_CELL) != 0;
 	}
 
-	// ʽǷ滻s
+	// 表达式里是否包含宏替换s
 	private boolean containMacro() {
 		return containMacro;
 	}
 	
-	// صԪǷǳ
+	// 返回单元格是否是常数格
 	public boolean isConstCell() {
 		return (sign & TYPE_CONST_CELL) != 0;
 	}
 
 	/**
-	 * صԪǷע͸
+	 * 返回单元格是否是注释格
 	 * @return boolean
 	 */
 	public boolean isNoteCell() {
@@ -342,24 +327,24 @@ public class PgmNormalCell extends NormalCell {
 	}
 
 	/**
-	 * صԪǷעͿ
+	 * 返回单元格是否是注释块
 	 * @return boolean
 	 */
 	public boolean isNoteBlock() {
 		return (sign & TYPE_NOTE_BLOCK) != 0;
 	}
 
-	// ǷǼ
+	// 返回是否是计算块
 	public boolean isCalculableBlock() {
 		return (sign & TYPE_CALCULABLE_BLOCK) != 0;
 	}
 
-	// ǷǼ
+	// 返回是否是计算格
 	public boolean isCalculableCell() {
 		return (sign & TYPE_CALCULABLE_CELL) != 0;
 	}
 
-	// Ƿִп
+	// 返回是否是执行块
 	public boolean isExecutableBlock() {
 		return (sign & TYPE_EXECUTABLE_BLOCK) != 0;
 	}
@@ -431,7 +416,7 @@ public class PgmNormalCell extends NormalCell {
 	}
 	
 	/**
-	 * ȡǰԪõĵԪ
+	 * 取当前单元格引用到的单元格
 	 * @param resultList
 	 */
 	public void getUsedCells(List<INormalCell> resultList) {
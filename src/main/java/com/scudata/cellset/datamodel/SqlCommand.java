@@ -27,7 +27,7 @@ public class SqlCommand extends Command {
 		if (len < 6) return false;
 
 		String str;
-		if (sql.charAt(0) == '$') { // ߼sql
+		if (sql.charAt(0) == '$') { // 逻辑sql
 			int i = 1;
 			while (Character.isWhitespace(sql.charAt(i))) {
 				i++;
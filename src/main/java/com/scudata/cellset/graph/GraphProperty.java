@@ -5,28 +5,28 @@ import java.io.*;
 import com.scudata.common.*;
 
 /**
- * ֮
+ * 公有属性之外的数据属性
  * @author Joancy
  *
  */
 public class GraphProperty extends PublicProperty {
 	private final static long serialVersionUID = 82857881736578L;
-	/** ඨ */
-	private String category; // ൥ԪԴ
-	private String series; // ϵеԪ񣬿ɿգԴ
-	private String value; // ֵԪԴ
+	/** 分类定义 */
+	private String category; // 分类单元格（源格）
+	private String series; // 系列单元格，可空（源格）
+	private String value; // 值单元格（源格）
 
 	private int x, y, w = 400, h = 260;
 
 	/**
-	 * ȡͳͼඨ
+	 * 取统计图分类定义
 	 */
 	public String getCategory() {
 		return category;
 	}
 
 	/**
-	 * ֵԪ
+	 * 值单元格
 	 * @return
 	 */
 	public String getValue() {
@@ -34,107 +34,107 @@ public class GraphProperty extends PublicProperty {
 	}
 
 	/**
-	 * ȡϵбʽ
-	 * @return ϵбʽ 
+	 * 获取系列表达式
+	 * @return 系列表达式 
 	 */
 	public String getSeries() {
 		return series;
 	}
 
 	/**
-	 * x
-	 * @return ֵ
+	 * x坐标
+	 * @return 坐标值
 	 */
 	public int getX() {
 		return x;
 	}
 
 	/**
-	 * y
-	 * @return ֵ
+	 * y坐标
+	 * @return 坐标值
 	 */
 	public int getY() {
 		return y;
 	}
 
 	/**
-	 * ͼο
-	 * @return ֵ
+	 * 图形宽度
+	 * @return 宽度值
 	 */
 	public int getW() {
 		return w;
 	}
 
 	/**
-	 * ͼθ߶
-	 * @return ߶ֵ
+	 * 图形高度
+	 * @return 高度值
 	 */
 	public int getH() {
 		return h;
 	}
 
 	/**
-	 * ͳͼඨ
+	 * 设置统计图分类定义
 	 * 
 	 * @param categories
-	 *            ͳͼඨ
+	 *            统计图分类定义
 	 */
 	public void setCategory(String category) {
 		this.category = category;
 	}
 
 	/**
-	 * ֵʽ
-	 * @param value ʽ
+	 * 值表达式
+	 * @param value 表达式
 	 */
 	public void setValue(String value) {
 		this.value = value;
 	}
 
 	/**
-	 * ϵбʽ
-	 * @param series ʽ
+	 * 设置系列表达式
+	 * @param series 表达式
 	 */
 	public void setSeries(String series) {
 		this.series = series;
 	}
 
 	/**
-	 * ú
-	 * @param x ֵ
+	 * 设置横坐标
+	 * @param x 坐标值
 	 */
 	public void setX(int x) {
 		this.x = x;
 	}
 
 	/**
-	 * 
-	 * @param y ֵ
+	 * 设置纵坐标
+	 * @param y 坐标值
 	 */
 	public void setY(int y) {
 		this.y = y;
 	}
 
 	/**
-	 * ͼο
-	 * @param w ֵ
+	 * 设置图形宽度
+	 * @param w 宽度值
 	 */
 	public void setW(int w) {
 		this.w = w;
 	}
 
 	/**
-	 * ͼθ߶
-	 * @param h ߶ֵ
+	 * 设置图形高度
+	 * @param h 高度值
 	 */
 	public void setH(int h) {
 		this.h = h;
 	}
 
 	/**
-	 * λ
-	 * @param x 
-	 * @param y 
+	 * 设置坐标位置
+	 * @param x 横坐标
+	 * @param y 纵坐标
 	 */
 	public void setLocation(int x, int y) {
 		this.x = x;
@@ -142,9 +142,9 @@ public class GraphProperty extends PublicProperty {
 	}
 
 	/**
-	 * ôС
-	 * @param w 
-	 * @param h ߶
+	 * 设置大小
+	 * @param w 宽度
+	 * @param h 高度
 	 */
 	public void setSize(int w, int h) {
 		this.w = w;
@@ -152,9 +152,9 @@ public class GraphProperty extends PublicProperty {
 	}
 
 	/**
-	 * ȿ¡
+	 * 深度克隆
 	 * 
-	 * @return Object ¡ͼ
+	 * @return Object 克隆后的图形属性
 	 */
 	public Object deepClone() {
 		GraphProperty gp = new GraphProperty();
@@ -168,7 +168,7 @@ public class GraphProperty extends PublicProperty {
 	}
 
 	/**
-	 * ʵлӿ
+	 * 实现序列化接口
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
 		super.writeExternal(out);
@@ -184,7 +184,7 @@ public class GraphProperty extends PublicProperty {
 	}
 
 	/**
-	 * ʵлӿ
+	 * 实现序列化接口
 	 */
 	public void readExternal(ObjectInput in) throws IOException,
 			ClassNotFoundException {
@@ -201,7 +201,7 @@ public class GraphProperty extends PublicProperty {
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public byte[] serialize() throws IOException {
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -219,7 +219,7 @@ public class GraphProperty extends PublicProperty {
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public void fillRecord(byte[] buf) throws IOException,
 			ClassNotFoundException {
@@ -7,7 +7,7 @@ import java.io.*;
 import com.scudata.common.*;
 
 /**
- * ͳͼͼͼƬݵ
+ * 统计图或者图层等图片数据的相关属性
  * @author Joancy
  *
  */
@@ -16,7 +16,7 @@ public class ImageValue implements ICloneable, Externalizable, IRecord {
 
 	private byte imageType;
 	private String html;
-	private byte[] value;//ǺθʽҪͼڵߴӡͼ豸
+	private byte[] value;//不管是何格式，都要产生图形流，用于导出或者打印到图形设备
 	private String customHtml;
 
 	private byte[] flashXml;
@@ -35,16 +35,16 @@ public class ImageValue implements ICloneable, Externalizable, IRecord {
 		redraw.repaint((Graphics2D)g, w, h);
 	}
 	/**
-	 * ȱʡ캯
+	 * 缺省构造函数
 	 */
 	public ImageValue() {
 	}
 
 	/**
-	 * ָĹ캯
-	 * @param value ͼݵֽ
-	 * @param type ͼθʽ
-	 * @param html ͼζӦĳ
+	 * 指定参数的构造函数
+	 * @param value 图像内容的字节数组
+	 * @param type 图形格式
+	 * @param html 图形对应的超链接
 	 */
 	public ImageValue( byte[] value, byte type, String html ) {
 		this.value = value;
@@ -53,14 +53,14 @@ public class ImageValue implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ָĹ캯
-	 * @param value ͼݵֽ
-	 * @param type ͼθʽ
-	 * @param html ͼζӦĳ
-	 * @param flashXml flashʽͼ
-	 * flashͼûjavaֱӻƣflashʽʱᱣݸ
-	 * һΪͨͼvalueڽ
-	 * һΪflashflashXml
+	 * 指定参数的构造函数
+	 * @param value 图像内容的字节数组
+	 * @param type 图形格式
+	 * @param html 图形对应的超链接
+	 * @param flashXml flash格式的图像内容数组
+	 * 由于flash图像没法在java中直接绘制，所以flash格式时会保留两份副本
+	 * 一份为普通图像内容value，用于界面绘制
+	 * 一份为flash自身内容flashXml，用于输出
 	 */
 	public ImageValue( byte[] value, byte type, String html, byte[] flashXml ) {
 		this.value = value;
@@ -70,107 +70,107 @@ public class ImageValue implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ֽݵͼ
-	 * @param value ͼ
+	 * 设置字节内容的图像数据
+	 * @param value 图像数据
 	 */
 	public void setValue( byte[] value ) {
 		this.value = value;
 	}
 
 	/**
-	 * ͼƬĸʽ
-	 * @param type ͼƬʽ ֵΪIGraphProperty.IMAGE_XXX
+	 * 设置图片的格式
+	 * @param type 图片格式 值为：IGraphProperty.IMAGE_XXX
 	 */
 	public void setImageType( byte type ) {
 		this.imageType = type;
 	}
 
 	/**
-	 * ͳͼʱгӣý
-	 * @param html ı
+	 * 统计图时，如果有超链接，将超链接设置进来
+	 * @param html 超链接文本
 	 */
 	public void setHtml( String html ) {
 		this.html = html;
 	}
 
 	/**
-	 * ȡͼƬ
-	 * @return ͼƬ
+	 * 取图片内容数据
+	 * @return 图片内容
 	 */
 	public byte[] getValue() {
 		return this.value;
 	}
 
 	/**
-	 * ȡͼƬʽ
-	 * @return ͼƬʽ
+	 * 取图片格式
+	 * @return 图片格式
 	 */
 	public byte getImageType() {
 		return this.imageType;
 	}
 
 	/**
-	 * ȡı
-	 * @return 
+	 * 取超链接文本
+	 * @return 超链接内容
 	 */
 	public String getHtml() {
 		return this.html;
 	}
 
 	/**
-	 * ҲԶ峬ӣԶ
-	 * @param s 
+	 * 也可以自定义超链接，设置自定义内容
+	 * @param s 超链接内容
 	 */
 	public void setCustomHtml( String s ) {
 		customHtml = s;
 	}
 
 	/**
-	 * ȡԶ峬
-	 * @return Զ峬
+	 * 取自定义超链接内容
+	 * @return 自定义超链接
 	 */
 	public String getCustomHtml() {
 		return customHtml;
 	}
 
 	/**
-	 * ͼƬflashflash
-	 * @param bytes flashݵֽ
+	 * 如果图片生成flash，设置flash内容
+	 * @param bytes flash内容的字节数据
 	 */
 	public void setFlashXml( byte[] bytes ) {
 		this.flashXml = bytes;
 	}
 
 	/**
-	 * ȡflashݵֽ
-	 * @return ֽ
+	 * 取flash内容的字节数据
+	 * @return 字节数据
 	 */
 	public byte[] getFlashXml() {
 		return this.flashXml;
 	}
 
 	/**
-	 * svgflashͬʱڣʵͬ÷
-	 * 洢ǹõ
-	 * @param bytes byte[] svgʽ
+	 * svg流跟flash不会同时存在，实现两个不同的设置方法
+	 * 但存储内容是共用的
+	 * @param bytes byte[] svg格式的内容数据
 	 */
 	public void setSvgBytes( byte[] bytes ) {
 		this.flashXml = bytes;
 	}
 
 	/**
-	 * ȡsvgʽ
-	 * @return ֽ
+	 * 取svg格式的内容数据
+	 * @return 字节数据
 	 */
 	public byte[] getSvgBytes() {
 		return this.flashXml;
 	}
 
 	/**
-	 * ʵлӿ
+	 * 实现序列化接口
 	 */
 	public void writeExternal( ObjectOutput out ) throws IOException {
-		out.writeByte( 3 ); //Macroİ汾
+		out.writeByte( 3 ); //Macro的版本
 		out.write( imageType );
 		out.writeObject( value );
 		out.writeObject( html );
@@ -179,7 +179,7 @@ public class ImageValue implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵлӿ
+	 * 实现序列化接口
 	 */
 	public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
 		byte version = in.readByte();
@@ -196,7 +196,7 @@ public class ImageValue implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public byte[] serialize() throws IOException {
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -209,7 +209,7 @@ public class ImageValue implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public void fillRecord( byte[] buf ) throws IOException, ClassNotFoundException {
 		ByteArrayInputRecord in = new ByteArrayInputRecord( buf );
@@ -228,8 +228,8 @@ public class ImageValue implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ȿ¡һͼݶ
-	 * @return ¡Ķ
+	 * 深度克隆一个图像数据对象
+	 * @return 克隆后的对象
 	 */
 	public Object deepClone() {
 		ImageValue v = new ImageValue();
@@ -9,15 +9,15 @@ import com.scudata.common.*;
 
 /**
  * 
- * ͼεĹ
+ * 所有图形的公共属性
  * 
  * @author Joancy
  *
  */
 public class PublicProperty implements IGraphProperty, ICloneable,
 		Externalizable, IRecord {
-//	ͼɫ16777215Ϊ͸༭͸ɫΪnullýӿڶΪColor
-	/** ͳͼ */
+//	图形颜色16777215为透明，编辑的透明色为null对象；所以所有设置接口都改为Color入口
+	/** 统计图类型 */
 	private byte type = GraphTypes.GT_COL;
 	private byte curveType = CURVE_LAGRANGE;
 	private byte borderStyle = IStyle.LINE_SOLID;
@@ -25,137 +25,137 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	private int borderColor = Color.black.getRGB();
 	private boolean borderShadow = true;
 
-	/** ɫ */
+	/** 坐标轴颜色 */
 	private int axisColor = Color.black.getRGB();
 
-	/** ȫͼɫ */
+	/** 全图背景颜色 */
 	private int canvasColor = Color.white.getRGB();
 
-	/** ͼɫ */
+	/** 图形区背景颜色 */
 	private int graphBackColor = Color.white.getRGB();
 
-	/**  */
+	/** 横轴标题 */
 	private String xTitle;
 
-	/**  */
+	/** 纵轴标题 */
 	private String yTitle;
 
-	/** ͳͼ */
+	/** 统计图标题 */
 	private String graphTitle;
 
-	/** λ*/
+	/** 网格线位置*/
 	private byte gridLineLocation = GRID_VALUE;
-	/**  */
+	/** 网格线类型 */
 	private byte gridLineType = LINE_NONE;
 
-	/** ɫ */
+	/** 网格线颜色 */
 	private int gridLineColor = Color.lightGray.getRGB();
 
-	/** ͼͼ */
+	/** 柱形图或条形图间距 */
 	private int barDistance;
 
-	/** ͼθʽ */
+	/** 图形格式 */
 	private byte imageFormat = IMAGE_JPG;
 
-	/** ͼǷ͸ */
+	/** 图形是否透明 */
 	private boolean graphTransparent = false;
 
-	/** ݱ */
+	/** 绘制数据表 */
 	private boolean isDrawDataTable = false,isDataCenter=false;
 	
-	/** Ƿ񽥱ɫ,עraisedBorderǻ */
+	/** 是否渐变色,注意该属性与raisedBorder是互斥的 */
 	private boolean gradientColor = true;
 
-	/** ǰNݻͼ */
+	/** 用前N条数据画图 */
 	private int topData;
 
-	/** ʱ״̬ͼͼ̱ͼʼʱʽ */
+	/** 时序状态图、甘特图或里程碑图开始时间表达式 */
 	private String statusStartTimeExp;
 
-	/** ʱ״̬ͼͼ̱ͼʱʽ */
+	/** 时序状态图、甘特图或里程碑图结束时间表达式 */
 	private String statusEndTimeExp;
 
-	/** ʱ״̬ͼʽͼ̱ͼĿʽ */
+	/** 时序状态图分类表达式或甘特图和里程碑图的项目表达式 */
 	private String statusCategoryExp;
 
-	/** ʱ״̬ͼͼ״̬ʽ */
+	/** 时序状态图或甘特图状态表达式 */
 	private String statusStateExp;
 
-	/** ʱ״̬ͼͼ״̬ */
+	/** 时序状态图或甘特图状态条宽度 */
 	private String statusBarWidth;
 
-	/** ʱ״̬ͼͼʱ̶ */
+	/** 时序状态图或甘特图时间刻度类型 */
 	private byte statusTimeType = TIME_HOUR;
 
-	/** ͳͼе */
+	/** 统计图中的字体 */
 	private GraphFonts fonts = new GraphFonts();
 
-	/** ߶ */
+	/** 警戒线定义 */
 	private AlarmLine[] alarms;
 
-	/** ͼʾݶ */
+	/** 图中显示数据定义 */
 	private byte displayData = DISPDATA_NONE;
 	private byte displayData2 = DISPDATA_NONE;
 
-	/** ͼʾݸʽ */
+	/** 图中显示数据格式定义 */
 	private String displayDataFormat;
 
-	/** ͳͼ */
+	/** 统计图超链接 */
 	private String link;
 
-	/** ͳͼͼ 2009.5.13 xq add */
+	/** 统计图图例超链接 2009.5.13 xq add */
 	private String legendLink;
 
-	/** ͳͼĿ괰 */
+	/** 统计图超链接目标窗口 */
 	private String linkTarget;
 
-	/** ͳͼͼλ */
+	/** 统计图的图例位置 */
 	private byte legendLocation = LEGEND_NONE;
 
-	/** ͳͼͼ */
+	/** 统计图的图例纵向间距 */
 	private int legendVerticalGap = 4;
-	/** ͳͼͼ */
+	/** 统计图的图例横向间距 */
 	private int legendHorizonGap = 4;
 
-	/** ܰϵлͼ */
+	/** 总按系列画图例 */
 	private boolean drawLegendBySery = false;
 
-	/** ͳͼɫ */
+	/** 统计图的配色方案名 */
 	private String colorConfig = "";
 
-	/** ͳֵʼֵ */
+	/** 统计值起始值 */
 	private String yStartValue;
 
-	/** ͳֵֵ */
+	/** 统计值结束值 */
 	private String yEndValue;
 
-	/** ͳֵǩ */
+	/** 统计值标签间隔 */
 	private String yInterval;
 
-	/** ͳֵλ */
+	/** 统计值数量单位 */
 	private double dataUnit = UNIT_ORIGIN;
 
-	/** ͳֵٿ̶ */
+	/** 统计值最少刻度数 */
 	private int yMinMarks = 2;
 
-	/** ͼ֮ļ */
+	/** 标题与图形之间的间距 */
 	private int titleMargin = 20;
 
-	/** ͼǷעݵ */
+	/** 折线图是否标注数据点 */
 	private boolean drawLineDot = true;
 	private boolean isOverlapOrigin = false;
 
-	/** ͼǷ */
+	/** 折线图是否画趋势线 */
 	private boolean drawLineTrend = false;
 
-	/** ͼֱߴϸ */
+	/** 折线图直线粗细度 */
 	private byte lineThick = 1;
 	private byte lineStyle = LINE_SOLID;
 
-	/** ֵǩصʱǷʾһֵǩ */
+	/** 相邻数值或标签重叠时是否显示后一数值或标签 */
 	private boolean showOverlapText = true;
 
-	/** ͼǷһʾ */
+	/** 饼图中是否分离出一扇显示 */
 	private boolean pieSpacing = false;
 	private boolean isMeterColorEnd = true;
 	private boolean isMeterTick = false;
@@ -164,54 +164,54 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	private int pieLine = 8;
 
 	private boolean isDispStackSumValue = false;
-	/** ǩ */
+	/** 分类轴标签间隔 */
 	private int xInterval;
 
-	/** ͼǷԿֵ ֻͼЧ */
+	/** 折线图是否忽略空值 只对于折线图有效 */
 	private boolean ignoreNull;
 
-	/** Զͼ */
+	/** 自定义图形类名 */
 	private String customClass;
 
-	/** Զͼز */
+	/** 自定义图形相关参数 */
 	private String customParam;
 
-	/** ƽͼ,ƽͼƽͼǷӰ */
+	/** 平面折线图,平面饼图，平面柱图是否画阴影 */
 	private boolean drawShade = true;
 
-	/** ƽͼͻ߿ */
+	/** 平面柱图的突出边框 */
 	private boolean raisedBorder = false;
 
-	/** ͼεıͼ */
+	/** 图形的背景图 */
 	private BackGraphConfig backGraph = null;
 
-	/** topN ʱǷ񶪵other */
+	/** topN 时是否丢掉other数据 */
 	private long flag = 0;
 
-	/** ɫԼͼ߿ɫ,ñඨĳ AXIS_xxx */
-	/** ɫ壬ԭɫηֿΪĸߵɫ˳Ϊϣ£ңͼ */
+	/** 轴线颜色以及图例边框颜色，可扩充,次序可以引用本类定义的常量 AXIS_xxx */
+	/** 颜色定义，代替原来轴颜色，轴矩形分开为四根线的颜色，顺序依次为上，下，左，右，图例 */
 	private int[] axisColors = new int[20];
 
-	private int leftMargin = 10; // ߾
-	private int rightMargin = 10; /* ұ߾ */
-	private int topMargin = 10; /* ϱ߾ */
-	private int bottomMargin = 10; /* ±߾ */
-	private int tickLen = 4; /* ̶ȳ */
-	private int coorWidth = 100; /* 3Dռпȵİٷֱ */
-	private double categorySpan = 190; /* ļռпȵİٷֱ */
-	private int seriesSpan = 100; /* мļռȵİٷֱ */
-	private int pieRotation = 50; /* ռĳȰٷֱ */
-	private int pieHeight = 70; /* ͼĸ߶ռ뾶İٷֱ<=100 */
+	private int leftMargin = 10; // 左边距
+	private int rightMargin = 10; /* 右边距 */
+	private int topMargin = 10; /* 上边距 */
+	private int bottomMargin = 10; /* 下边距 */
+	private int tickLen = 4; /* 刻度长度 */
+	private int coorWidth = 100; /* 3D轴宽度占序列宽度的百分比 */
+	private double categorySpan = 190; /* 类别间的间隔占序列宽度的百分比 */
+	private int seriesSpan = 100; /* 序列间的间隔占序列深度的百分比 */
+	private int pieRotation = 50; /* 纵轴占横轴的长度百分比 */
+	private int pieHeight = 70; /* 饼型图的高度占半径的百分比<=100 */
 
 	private String otherStackedSeries=null;
 	
 	/**
-	 * ȱʡֵ캯
+	 * 缺省值构造函数
 	 */
 	public PublicProperty() {
-		/* Init Property עóʼͬһ ReportGraphProperty*/
+		/* Init Property 注意该初始化动作同步一下 ReportGraphProperty*/
 		for (int i = 0; i < axisColors.length; i++) {
-			axisColors[i] = 16777215;//͸ɫ
+			axisColors[i] = 16777215;//透明色
 		}
 		axisColors[this.AXIS_BOTTOM]=Color.lightGray.getRGB();
 		type = GraphTypes.GT_COL3DOBJ;
@@ -224,93 +224,93 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ȡͳͼ
+	 * 取统计图类型
 	 * 
-	 * @return byte ͳͼͣGraphTypesеĳ
+	 * @return byte 统计图类型，由GraphTypes中的常量定义
 	 */
 	public byte getType() {
 		return type;
 	}
 
 	/**
-	 * ͳͼ
+	 * 设置统计图类型
 	 * 
-	 * @param type ͳͼͣGraphTypesеĳ
+	 * @param type 统计图类型，由GraphTypes中的常量定义
 	 */
 	public void setType(byte type) {
 		this.type = type;
 	}
 
 	/**
-	 * 
-	 * @param curveType ֵο	IGraphProperty.CURVE_XXX
+	 * 设置曲线类型
+	 * @param curveType 类型值，参考	IGraphProperty.CURVE_XXX
 	 */
 	public void setCurveType(byte curveType) {
 		this.curveType = curveType;
 	}
 
 	/**
-	 * ȡ
-	 * @return ߵ
+	 * 获取曲线类型
+	 * @return 曲线的类型
 	 */
 	public byte getCurveType() {
 		return curveType;
 	}
 
 	/**
-	 * ȡԶͼ
+	 * 取自定义图形类名称
 	 * 
-	 * @return String Զͼ
+	 * @return String 自定义图类名称
 	 */
 	public String getCustomClass() {
 		return customClass;
 	}
 
 	/**
-	 * Զͼ
+	 * 设置自定义图形类名称
 	 */
 	public void setCustomClass(String customClass) {
 		this.customClass = customClass;
 	}
 
 	/**
-	 * ȡԶͼ
+	 * 取自定义图形类参数
 	 * 
-	 * @return String Զͼ
+	 * @return String 自定义图类参数
 	 */
 	public String getCustomParam() {
 		return customParam;
 	}
 
 	/**
-	 * Զͼ
+	 * 设置自定义图形类参数
 	 */
 	public void setCustomParam(String customParam) {
 		this.customParam = customParam;
 	}
 
 	/**
-	 * ȡɫ
+	 * 取坐标轴颜色
 	 * 
-	 * @return int RGBֵʾɫ
+	 * @return int RGB值表示的颜色
 	 */
 	public int getAxisColor() {
 		return axisColor;
 	}
 
 	/**
-	 * ɫ
-	 * ÷ѾãaxisColors
-	 * @param color ɫ
+	 * 设置坐标轴颜色
+	 * 该方法已经废弃不用，由数组axisColors
+	 * @param color 坐标轴颜色
 	 */
 	public void setAxisColor(int color) {
 		this.axisColor = color;
 	}
 
 	/**
-	 * ָɫ
-	 * @param index 
-	 * @param c ɫ
+	 * 设置指定序号轴的颜色
+	 * @param index 序号
+	 * @param c 颜色
 	 */
 	public void setAxisColor(int index, Color c) {
 		this.axisColors[index] = color(c);
@@ -322,11 +322,11 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 	
 	/**
-	 * ñ߿
-	 * @param borderStyle ߿
-	 * @param borderWidth ߿ֶ
-	 * @param borderColor ߿ɫ
-	 * @param borderShadow ߿Ӱ
+	 * 设置边框的属性
+	 * @param borderStyle 边框风格
+	 * @param borderWidth 边框粗度
+	 * @param borderColor 边框颜色
+	 * @param borderShadow 边框阴影
 	 */
 	public void setBorder(byte borderStyle, float borderWidth, Color borderColor,
 			boolean borderShadow) {
@@ -337,26 +337,26 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ȥ߿
-	 * @return ֵ
+	 * 去边框风格
+	 * @return 风格值
 	 */
 	public byte getBorderStyle() {
 		return borderStyle;
 	}
 
 	/**
-	 * ȡ߿ֶ
-	 * @return ֵֶ
+	 * 取边框粗度
+	 * @return 粗度值
 	 */
 	public float getBorderWidth() {
 		return borderWidth;
 	}
 
 	/**
-	 * ȡRGBֵʾɫӦͼõColor
-	 * ɫֵΪ16777215ʱʾ͸ɫnull
-	 * @param c RGBʾɫֵ
-	 * @return ɫ
+	 * 取RGB值表示的颜色对应绘图用的Color
+	 * 颜色值为16777215时表示透明色，返回null
+	 * @param c RGB表示的颜色值
+	 * @return 颜色对象
 	 */
 	public static Color getColorObject(int c){
 		if(c==16777215) return null;
@@ -364,134 +364,134 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 	
 	/**
-	 * ȡ߿ɫ
-	 * @return RGBʾɫ
+	 * 取边框颜色
+	 * @return RGB表示的整数颜色
 	 */
 	public int getBorderColor() {
 		return borderColor;
 	}
 
 	/**
-	 * ߿ǷӰ
-	 * @return Ӱtrue򷵻false
+	 * 边框是否绘制阴影
+	 * @return 有阴影返回true，否则返回false
 	 */
 	public boolean getBorderShadow() {
 		return borderShadow;
 	}
 
 	/**
-	 * ȡȫͼɫ
+	 * 取全图背景颜色
 	 * 
-	 * @return intȫͼɫ
+	 * @return int　全图背景颜色
 	 */
 	public int getCanvasColor() {
 		return canvasColor;
 	}
 
 	/**
-	 * ȫͼɫ
+	 * 设置全图背景颜色
 	 * 
 	 * @param color
-	 *            ȫͼɫ
+	 *            全图背景颜色
 	 */
 	public void setCanvasColor(int color) {
 		this.canvasColor = color;
 	}
 	
 	/**
-	 * ȫͼɫ
-	 * @param c ɫ
+	 * 设置全图背景色
+	 * @param c 颜色对象
 	 */
 	public void setCanvasColor(Color c) {
 		this.canvasColor = color(c);
 	}
 
 	/**
-	 * ȡͼɫ
+	 * 取图形区背景颜色
 	 * 
-	 * @return intͼɫ
+	 * @return int　图形区背景颜色
 	 */
 	public int getGraphBackColor() {
 		return this.graphBackColor;
 	}
 
 	/**
-	 * ͼɫ
+	 * 设置图形区背景颜色
 	 * 
-	 * @param color ͼɫ
+	 * @param color 图形区背景颜色
 	 */
 	public void setGraphBackColor(int color) {
 		this.graphBackColor = color;
 	}
 	/**
-	 * ͼɫ
-	 * @param c ɫ
+	 * 设置图形区背景颜色
+	 * @param c 颜色对象
 	 */
 	public void setGraphBackColor(Color c) {
 		this.graphBackColor = color(c);
 	}
 
 	/**
-	 * ȡ
+	 * 取横轴标题
 	 * 
-	 * @return String 
+	 * @return String 横轴标题
 	 */
 	public String getXTitle() {
 		return xTitle;
 	}
 
 	/**
-	 * ú
+	 * 设置横轴标题
 	 * 
 	 * @param title
-	 *            
+	 *            横轴标题
 	 */
 	public void setXTitle(String title) {
 		this.xTitle = title;
 	}
 
 	/**
-	 * ȡ
+	 * 取纵轴标题
 	 * 
-	 * @return String 
+	 * @return String 纵轴标题
 	 */
 	public String getYTitle() {
 		return yTitle;
 	}
 
 	/**
-	 * 
+	 * 设置纵轴标题
 	 * 
 	 * @param title
-	 *            
+	 *            纵轴标题
 	 */
 	public void setYTitle(String title) {
 		this.yTitle = title;
 	}
 
 	/**
-	 * ȡͳͼ
+	 * 取统计图标题
 	 * 
-	 * @return Stringͳͼ
+	 * @return String　统计图标题
 	 */
 	public String getGraphTitle() {
 		return graphTitle;
 	}
 
 	/**
-	 * ͳͼ
+	 * 设置统计图标题
 	 * 
 	 * @param title
-	 *            ͳͼ
+	 *            统计图标题
 	 */
 	public void setGraphTitle(String title) {
 		this.graphTitle = title;
 	}
 
 	/**
-	 * ȡ
+	 * 取网格线类型
 	 * 
-	 * @return byteֵͣΪIGraphProperty.LINE_NONE, LINE_SOLID, LINE_LONG_DASH,
+	 * @return byte　网格线类型，值为IGraphProperty.LINE_NONE, LINE_SOLID, LINE_LONG_DASH,
 	 *         LINE_SHORT_DASH, LINE_DOT_DASH, LINE_2DOT_DASH
 	 */
 	public byte getGridLineType() {
@@ -499,10 +499,10 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * 
+	 * 设置网格线类型
 	 * 
 	 * @param type
-	 *            , ȡֵΪLINE_NONE, LINE_SOLID, LINE_LONG_DASH,
+	 *            网格线类型, 取值为LINE_NONE, LINE_SOLID, LINE_LONG_DASH,
 	 *            LINE_SHORT_DASH, LINE_DOT_DASH, LINE_2DOT_DASH
 	 */
 	public void setGridLineType(byte type) {
@@ -510,64 +510,64 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ȡɫ
+	 * 取网格线颜色
 	 * 
-	 * @return intɫ
+	 * @return int　网格线颜色
 	 */
 	public int getGridLineColor() {
 		return gridLineColor;
 	}
 
 	/**
-	 * ɫ
+	 * 设置网格线颜色
 	 * 
 	 * @param color
-	 *            ɫ
+	 *            网格线颜色
 	 */
 	public void setGridLineColor(int color) {
 		this.gridLineColor = color;
 	}
 
 	/**
-	 * ȡͼͼ
+	 * 取柱形图或条形图间距
 	 * 
-	 * @return Stringͼͼ
+	 * @return String　柱形图或条形图间距
 	 */
 	public int getBarDistance() {
 		return barDistance;
 	}
 
 	/**
-	 * ͼͼ
+	 * 设置柱形图或条形图间距
 	 * 
 	 * @param distance
-	 *            ͼͼ
+	 *            柱形图或条形图间距
 	 */
 	public void setBarDistance(int distance) {
 		this.barDistance = distance;
 	}
 
 	/**
-	 * ȡͼθʽ
+	 * 取图形格式
 	 * 
-	 * @return byteͼθʽ, ֵΪIMAGE_JPG, IMAGE_GIF, IMAGE_PNG
+	 * @return byte　图形格式, 值为IMAGE_JPG, IMAGE_GIF, IMAGE_PNG
 	 */
 	public byte getImageFormat() {
 		return imageFormat;
 	}
 
 	/**
-	 * ͼθʽ
+	 * 设置图形格式
 	 * 
 	 * @param format
-	 *            ͼθʽȡֵΪIMAGE_JPG, IMAGE_GIF, IMAGE_PNG
+	 *            图形格式，取值为IMAGE_JPG, IMAGE_GIF, IMAGE_PNG
 	 */
 	public void setImageFormat(byte format) {
 		this.imageFormat = format;
 	}
 
 	/**
-	 * ȡͼǷ͸
+	 * 取图形是否透明
 	 * 
 	 * @return boolean
 	 */
@@ -576,174 +576,174 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * Ƿͼ·ݱ
-	 * @return ʱtrue򷵻false
+	 * 是否在图形下方绘制数据表
+	 * @return 绘制时返回true，否则返回false
 	 */
 	public boolean isDrawDataTable(){
 		return isDrawDataTable;
 	}
 	
 	/**
-	 * Ƿݱ
-	 * @param b Ƿ
+	 * 设置是否绘制数据表
+	 * @param b 是否绘制
 	 */
 	public void setDrawDataTable(boolean b){
 		this.isDrawDataTable = b;
 	}
 	/**
-	 * ݱڸмǷ
-	 * @return лƷtrue򷵻false
+	 * 如果绘制数据表，数据在格子中间是否居中
+	 * @return 如果居中绘制返回true，否则返回false
 	 */
 	public boolean isDataCenter(){
 		return isDataCenter;
 	}
 	/**
-	 * ݱǷл
-	 * еĻ
-	 * @param b ʾ
+	 * 设置数据表的数据是否居中绘制
+	 * 如果不居中的话，就是左对齐
+	 * @param b 居中显示
 	 */
 	public void setDataCenter(boolean b){
 		this.isDataCenter = b;
 	}
 	/**
-	 * ͼǷ͸
+	 * 设置图形是否透明
 	 * 
-	 * @param b Ƿ͸
+	 * @param b 是否透明
 	 */
 	public void setGraphTransparent(boolean b) {
 		this.graphTransparent = b;
 	}
 
 	/**
-	 * ȡǷ񽥱ɫ
+	 * 取是否渐变色
 	 * 
-	 * @return boolean Ƿ񽥱ɫ
+	 * @return boolean 是否渐变色
 	 */
 	public boolean isGradientColor() {
 		return gradientColor;
 	}
 
 	/**
-	 * Ƿ񽥱ɫ
+	 * 设置是否渐变色
 	 * 
-	 * @param b Ƿʹýɫ
+	 * @param b 是否使用渐变色
 	 */
 	public void setGradientColor(boolean b) {
 		this.gradientColor = b;
 	}
 
 	/**
-	 * ȡǰNݻͼ
+	 * 取用前N条数据画图
 	 * 
-	 * @return intǰNݻͼ
+	 * @return int　用前N条数据画图
 	 */
 	public int getTopData() {
 		return topData;
 	}
 
 	/**
-	 * ǰNݻͼ
+	 * 设置用前N条数据画图
 	 * 
-	 * @param n  
+	 * @param n  数据条数
 	 */
 	public void setTopData(int n) {
 		this.topData = n;
 	}
 
 	/**
-	 * ȡʱ״̬ͼͼ̱ͼʼʱʽ
+	 * 取时序状态图、甘特图或里程碑图开始时间表达式
 	 * 
-	 * @return Stringʱ״̬ͼͼ̱ͼʼʱʽ
+	 * @return String　时序状态图、甘特图或里程碑图开始时间表达式
 	 */
 	public String getStatusStartTimeExp() {
 		return statusStartTimeExp;
 	}
 
 	/**
-	 * ʱ״̬ͼͼ̱ͼʼʱʽ
+	 * 设置时序状态图、甘特图或里程碑图开始时间表达式
 	 * 
-	 * @param exp ʱ״̬ͼͼ̱ͼʼʱʽ
+	 * @param exp 时序状态图、甘特图或里程碑图开始时间表达式
 	 */
 	public void setStatusStartTimeExp(String exp) {
 		this.statusStartTimeExp = exp;
 	}
 
 	/**
-	 * ȡʱ״̬ͼͼ̱ͼʱʽ
+	 * 取时序状态图、甘特图或里程碑图结束时间表达式
 	 * 
-	 * @return Stringʱ״̬ͼͼ̱ͼʱʽ
+	 * @return String　时序状态图、甘特图或里程碑图结束时间表达式
 	 */
 	public String getStatusEndTimeExp() {
 		return statusEndTimeExp;
 	}
 
 	/**
-	 * ʱ״̬ͼͼ̱ͼʱʽ
+	 * 设置时序状态图、甘特图或里程碑图结束时间表达式
 	 * 
-	 * @param exp ʱ״̬ͼͼ̱ͼʱʽ
+	 * @param exp 时序状态图、甘特图或里程碑图结束时间表达式
 	 */
 	public void setStatusEndTimeExp(String exp) {
 		this.statusEndTimeExp = exp;
 	}
 
 	/**
-	 * ȡʱ״̬ͼʽͼ̱ͼĿʽ
+	 * 取时序状态图分类表达式或甘特图和里程碑图的项目表达式
 	 * 
-	 * @return Stringʱ״̬ͼʽͼ̱ͼĿʽ
+	 * @return String　时序状态图分类表达式或甘特图和里程碑图的项目表达式
 	 */
 	public String getStatusCategoryExp() {
 		return statusCategoryExp;
 	}
 
 	/**
-	 * ʱ״̬ͼʽͼ̱ͼĿʽ
+	 * 设置时序状态图分类表达式或甘特图和里程碑图的项目表达式
 	 * 
-	 * @param exp ʱ״̬ͼʽͼ̱ͼĿʽ
+	 * @param exp 时序状态图分类表达式或甘特图和里程碑图的项目表达式
 	 */
 	public void setStatusCategoryExp(String exp) {
 		this.statusCategoryExp = exp;
 	}
 
 	/**
-	 * ȡʱ״̬ͼͼ״̬ʽ
+	 * 取时序状态图或甘特图状态表达式
 	 * 
-	 * @return Stringʱ״̬ͼͼ״̬ʽ
+	 * @return String　时序状态图或甘特图状态表达式
 	 */
 	public String getStatusStateExp() {
 		return statusStateExp;
 	}
 
 	/**
-	 * ʱ״̬ͼͼ״̬ʽ
+	 * 设置时序状态图或甘特图状态表达式
 	 * 
-	 * @param exp ʱ״̬ͼͼ״̬ʽ
+	 * @param exp 时序状态图或甘特图状态表达式
 	 */
 	public void setStatusStateExp(String exp) {
 		this.statusStateExp = exp;
 	}
 
 	/**
-	 * ȡʱ״̬ͼͼ״̬
+	 * 取时序状态图或甘特图状态条宽度
 	 * 
-	 * @return Stringʱ״̬ͼͼ״̬
+	 * @return String　时序状态图或甘特图状态条宽度
 	 */
 	public String getStatusBarWidth() {
 		return statusBarWidth;
 	}
 
 	/**
-	 * ʱ״̬ͼͼ״̬
+	 * 设置时序状态图或甘特图状态条宽度
 	 * 
-	 * @param width ʱ״̬ͼͼ״̬
+	 * @param width 时序状态图或甘特图状态条宽度
 	 */
 	public void setStatusBarWidth(String width) {
 		this.statusBarWidth = width;
 	}
 
 	/**
-	 * ȡʱ״̬ͼͼʱ̶
+	 * 取时序状态图或甘特图时间刻度类型
 	 * 
-	 * @return byteʱ״̬ͼͼʱ̶ֵͣΪTIME_YEAR, TIME_MONTH, TIME_DAY,
+	 * @return byte　时序状态图或甘特图时间刻度类型，值为TIME_YEAR, TIME_MONTH, TIME_DAY,
 	 *         TIME_HOUR, TIME_MINUTE, TIME_SECOND
 	 */
 	public byte getStatusTimeType() {
@@ -751,10 +751,10 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ʱ״̬ͼͼʱ̶
+	 * 设置时序状态图或甘特图时间刻度类型
 	 * 
 	 * @param type
-	 *            ʱ״̬ͼͼʱ̶ͣȡֵΪTIME_YEAR, TIME_MONTH, TIME_DAY, TIME_HOUR,
+	 *            时序状态图或甘特图时间刻度类型，取值为TIME_YEAR, TIME_MONTH, TIME_DAY, TIME_HOUR,
 	 *            TIME_MINUTE, TIME_SECOND
 	 */
 	public void setStatusTimeType(byte type) {
@@ -762,46 +762,46 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ȡͳͼ
+	 * 取统计图字体
 	 * 
-	 * @return GraphFontsͳͼ
+	 * @return GraphFonts　统计图字体
 	 */
 	public GraphFonts getFonts() {
 		return fonts;
 	}
 
 	/**
-	 * ͳͼ
+	 * 设置统计图字体
 	 * 
-	 * @param fonts ͳͼ
+	 * @param fonts 统计图字体
 	 */
 	public void setFonts(GraphFonts fonts) {
 		this.fonts = fonts;
 	}
 
 	/**
-	 * ȡ߶
+	 * 取警戒线定义
 	 * 
-	 * @return AlarmLine[]߶
+	 * @return AlarmLine[]　警戒线定义
 	 */
 	public AlarmLine[] getAlarmLines() {
 		return alarms;
 	}
 
 	/**
-	 * þ߶
+	 * 设置警戒线定义
 	 * 
 	 * @param alarms
-	 *            ߶
+	 *            警戒线定义
 	 */
 	public void setAlarmLines(AlarmLine[] alarms) {
 		this.alarms = alarms;
 	}
 
 	/**
-	 * ȡͼʾݶ
+	 * 取图中显示数据定义
 	 * 
-	 * @return byteͼʾݶ壬ֵΪDISPDATA_NONE, DISPDATA_VALUE,
+	 * @return byte　图中显示数据定义，值为DISPDATA_NONE, DISPDATA_VALUE,
 	 *         DISPDATA_PERCENTAGE
 	 */
 	public byte getDisplayData() {
@@ -812,10 +812,10 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ͼʾݶ
+	 * 设置图中显示数据定义
 	 * 
 	 * @param displayData
-	 *            ͼʾݶ壬ȡֵΪDISPDATA_NONE, DISPDATA_VALUE, DISPDATA_PERCENTAGE
+	 *            图中显示数据定义，取值为DISPDATA_NONE, DISPDATA_VALUE, DISPDATA_PERCENTAGE
 	 */
 	public void setDisplayData(byte displayData) {
 		this.displayData = displayData;
@@ -825,80 +825,80 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ȡͼʾݸʽ
+	 * 取图中显示数据格式定义
 	 * 
-	 * @return Stringͼʾݸʽ
+	 * @return String　图中显示数据格式定义
 	 */
 	public String getDisplayDataFormat() {
 		return displayDataFormat;
 	}
 
 	/**
-	 * ͼʾݸʽ
+	 * 设置图中显示数据格式定义
 	 * 
 	 * @param format
-	 *            ͼʾݸʽ壬˫ͼʱ÷ֺŸ
+	 *            图中显示数据格式定义，双轴图时用分号隔开
 	 */
 	public void setDisplayDataFormat(String format) {
 		this.displayDataFormat = format;
 	}
 
 	/**
-	 * ȡͳͼ
+	 * 取统计图超链接
 	 * 
-	 * @return Stringͳͼ
+	 * @return String　统计图超链接
 	 */
 	public String getLink() {
 		return link;
 	}
 
 	/**
-	 * ȡͳͼеͼ
-	 * @return String ͼ
+	 * 取统计图中的图例超链接
+	 * @return String 图例超链接
 	 */
 	public String getLegendLink() {
 		return legendLink;
 	}
 
 	/**
-	 * ͳͼ
+	 * 设置统计图超链接
 	 * 
-	 * @param link ͳͼ
+	 * @param link 统计图超链接
 	 */
 	public void setLink(String link) {
 		this.link = link;
 	}
 
 	/**
-	 * ͼ
-	 * @param link ͼ
+	 * 设置图例超链接
+	 * @param link 图例超链接
 	 */
 	public void setLegendLink(String link) {
 		this.legendLink = link;
 	}
 
 	/**
-	 * ȡͳͼĿ괰
+	 * 取统计图超链接目标窗口
 	 * 
-	 * @return StringͳͼĿ괰
+	 * @return String　统计图超链接目标窗口
 	 */
 	public String getLinkTarget() {
 		return linkTarget;
 	}
 
 	/**
-	 * ͳͼĿ괰
+	 * 设置统计图超链接目标窗口
 	 * 
-	 * @param target ͳͼĿ괰
+	 * @param target 统计图超链接目标窗口
 	 */
 	public void setLinkTarget(String target) {
 		this.linkTarget = target;
 	}
 
 	/**
-	 * ȡͳͼͼλ
+	 * 取统计图的图例位置
 	 * 
-	 * @return byteͳͼͼλãֵΪLEGEND_LEFT, LEGEND_RIGHT, LEGEND_TOP,
+	 * @return byte　统计图的图例位置，值为LEGEND_LEFT, LEGEND_RIGHT, LEGEND_TOP,
 	 *         LEGEND_BOTTOM, LEGEND_NONE
 	 */
 	public byte getLegendLocation() {
@@ -906,10 +906,10 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ͳͼͼλ
+	 * 设置统计图的图例位置
 	 * 
 	 * @param location
-	 *            ͳͼͼλ, ȡֵΪLEGEND_LEFT, LEGEND_RIGHT, LEGEND_TOP,
+	 *            统计图的图例位置, 取值为LEGEND_LEFT, LEGEND_RIGHT, LEGEND_TOP,
 	 *            LEGEND_BOTTOM, LEGEND_NONE
 	 */
 	public void setLegendLocation(byte location) {
@@ -917,132 +917,132 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ͼֵ϶
-	 * @param gap ϶ֵ
+	 * 设置图例布局的纵向间隙
+	 * @param gap 间隙值
 	 */
 	public void setLegendVerticalGap(int gap){
 		this.legendVerticalGap = gap;
 	}
 	/**
-	 * ȡͼ϶ֵ
-	 * @return int ϶ֵ
+	 * 取图例的纵向间隙值
+	 * @return int 间隙值
 	 */
 	public int getLegendVerticalGap(){
 		return legendVerticalGap;
 	}
 	
 	/**
-	 * ͼĺ϶ֵ
-	 * @param gap ϶ֵ
+	 * 设置图例的横向间隙值
+	 * @param gap 间隙值
 	 */
 	public void setLegendHorizonGap(int gap){
 		this.legendHorizonGap = gap;
 	}
 	
 	/**
-	 * ȥͼ϶ֵ
-	 * @return ϶ֵ
+	 * 去图例横向间隙值
+	 * @return 间隙值
 	 */
 	public int getLegendHorizonGap(){
 		return legendHorizonGap;
 	}
 
 	/**
-	 * ͼǷϵл
-	 * @return ϵлʱtrue򷵻false
+	 * 图例是否按照系列绘制
+	 * @return 按系列绘制时返回true，否则返回false
 	 */
 	public boolean getDrawLegendBySery() {
 		return drawLegendBySery;
 	}
 
 	/**
-	 * Ƿϵֵͼ
-	 * @param b Ƿϵлͼ
+	 * 设置是否按照系列值绘制图例
+	 * @param b 是否按系列绘图例
 	 */
 	public void setDrawLegendBySery(boolean b) {
 		this.drawLegendBySery = b;
 	}
 
 	/**
-	 * ȡͳͼɫ
+	 * 取统计图的配色方案名
 	 * 
-	 * @return Stringͳͼɫ
+	 * @return String　统计图的配色方案名
 	 */
 	public String getColorConfig() {
 		return colorConfig;
 	}
 
 	/**
-	 * ͳͼɫ
+	 * 设置统计图的配色方案名
 	 * 
 	 * @param config
-	 *            ͳͼɫ
+	 *            统计图的配色方案名
 	 */
 	public void setColorConfig(String config) {
 		this.colorConfig = config;
 	}
 
 	/**
-	 * ȡͳֵʼֵ
+	 * 取统计值起始值
 	 * 
-	 * @return Stringͳֵʼֵ
+	 * @return String　统计值起始值
 	 */
 	public String getYStartValue() {
 		return yStartValue;
 	}
 
 	/**
-	 * ͳֵʼֵ
+	 * 设置统计值起始值
 	 * 
 	 * @param value
-	 *            ͳֵʼֵ, ˫ͼʱ÷ֺŸ
+	 *            统计值起始值, 双轴图时用分号隔开
 	 */
 	public void setYStartValue(String value) {
 		this.yStartValue = value;
 	}
 
 	/**
-	 * ȡͳֵֵ
+	 * 取统计值结束值
 	 * 
-	 * @return Stringͳֵֵ
+	 * @return String　统计值结束值
 	 */
 	public String getYEndValue() {
 		return yEndValue;
 	}
 
 	/**
-	 * ͳֵֵ
+	 * 设置统计值结束值
 	 * 
 	 * @param value
-	 *            ͳֵֵ, ˫ͼʱ÷ֺŸ
+	 *            统计值结束值, 双轴图时用分号隔开
 	 */
 	public void setYEndValue(String value) {
 		this.yEndValue = value;
 	}
 
 	/**
-	 * ȡͳֵǩ
+	 * 取统计值标签间隔
 	 * 
-	 * @return Stringͳֵǩ
+	 * @return String　统计值标签间隔
 	 */
 	public String getYInterval() {
 		return yInterval;
 	}
 
 	/**
-	 * ͳֵǩ
+	 * 设置统计值标签间隔
 	 * 
 	 * @param interval
-	 *            ͳֵǩ˫ͼʱ÷ֺŸ
+	 *            统计值标签间隔，双轴图时用分号隔开
 	 */
 	public void setYInterval(String interval) {
 		this.yInterval = interval;
 	}
 
 	/**
-	 * ȡͳֵλ
+	 * 取统计值数量单位
 	 * 
-	 * @return doubleͳֵλֵΪUNIT_ORIGIN, UNIT_AUTO, UNIT_THOUSAND,
+	 * @return double　统计值数量单位，值为UNIT_ORIGIN, UNIT_AUTO, UNIT_THOUSAND,
 	 *         UNIT_10THOUSAND, UNIT_MILLION, UNIT_10MILLION, UNIT_100MILLION,
 	 *         UNIT_BILLION, UNIT_001, UNIT_0001, UNIT_00001, UNIT_0000001
 	 */
@@ -1051,10 +1051,10 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ͳֵλ
+	 * 设置统计值数量单位
 	 * 
 	 * @param unit
-	 *            ͳֵλȡֵΪUNIT_ORIGIN, UNIT_AUTO, UNIT_THOUSAND,
+	 *            统计值数量单位，取值为UNIT_ORIGIN, UNIT_AUTO, UNIT_THOUSAND,
 	 *            UNIT_10THOUSAND, UNIT_MILLION, UNIT_10MILLION,
 	 *            UNIT_100MILLION, UNIT_BILLION, UNIT_001, UNIT_0001,
 	 *            UNIT_00001, UNIT_0000001
@@ -1064,245 +1064,245 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ȡͳֵٿ̶
+	 * 取统计值最少刻度数
 	 * 
-	 * @return Stringͳֵٿ̶
+	 * @return String　统计值最少刻度数
 	 */
 	public int getYMinMarks() {
 		return yMinMarks;
 	}
 
 	/**
-	 * ͳֵٿ̶
+	 * 设置统计值最少刻度数
 	 * 
 	 * @param marks
-	 *            ͳֵٿ̶
+	 *            统计值最少刻度数
 	 */
 	public void setYMinMarks(int marks) {
 		this.yMinMarks = marks;
 	}
 
 	/**
-	 * ȡͼ֮ļ
+	 * 取标题与图形之间的间距
 	 * 
-	 * @return Stringͼ֮ļ
+	 * @return String　标题与图形之间的间距
 	 */
 	public int getTitleMargin() {
 		return titleMargin;
 	}
 
 	/**
-	 * ñͼ֮ļ
+	 * 设置标题与图形之间的间距
 	 * 
 	 * @param margin
-	 *            ͼ֮ļ
+	 *            标题与图形之间的间距
 	 */
 	public void setTitleMargin(int margin) {
 		this.titleMargin = margin;
 	}
 
 	/**
-	 * ȡͼǷעݵ
+	 * 取折线图是否标注数据点
 	 * 
-	 * @return boolean ݵʱtruefalse
+	 * @return boolean 绘制数据点时返回true，否则false
 	 */
 	public boolean isDrawLineDot() {
 		return drawLineDot;
 	}
 
 	/**
-	 * ͼǷ
+	 * 折线图是否画趋势线
 	 * 
-	 * @return boolean ʱtrue򷵻false
+	 * @return boolean 绘制趋势线时返回true，否则返回false
 	 */
 	public boolean isDrawLineTrend() {
 		return drawLineTrend;
 	}
 
 	/**
-	 * ͼĴϸ
+	 * 折线图的粗细度
 	 * 
-	 * @return byte ֶ
+	 * @return byte 粗度
 	 */
 	public byte getLineThick() {
 		return lineThick;
 	}
 
 	/**
-	 * ȡߵͷ
-	 * @return 
+	 * 取折线的线型风格
+	 * @return 风格
 	 */
 	public byte getLineStyle() {
 		return lineStyle;
 	}
 
 	/**
-	 * ͼǷעݵ
+	 * 设置折线图是否标注数据点
 	 * 
-	 * @param b Ƿע
+	 * @param b 是否标注
 	 */
 	public void setDrawLineDot(boolean b) {
 		this.drawLineDot = b;
 	}
 
 	/**
-	 * ԭغ
-	 * @param b Ƿغ
+	 * 设置原点重合
+	 * @param b 是否重合
 	 */
 	public void setOverlapOrigin(boolean b) {
 		this.isOverlapOrigin = b;
 	}
 	
 	/**
-	 * ȡԭǷغ
-	 * @return غʱtrue򷵻false
+	 * 取原点是否重合
+	 * @return 重合时返回true，否则返回false
 	 */
 	public boolean isOverlapOrigin() {
 		return isOverlapOrigin;
 	}
 	
 	/**
-	 * ͼǷ
+	 * 设置折线图是否画趋势线
 	 * 
-	 * @param b Ƿ
+	 * @param b 是否画趋势线
 	 */
 	public void setDrawLineTrend(boolean b) {
 		this.drawLineTrend = b;
 	}
 
 	/**
-	 * ͼϸ
+	 * 设置折线图粗细度
 	 * 
-	 * @byte thick ֶ
+	 * @byte thick 粗度
 	 */
 	public void setLineThick(byte thick) {
 		this.lineThick = thick;
 	}
 
 	/**
-	 * ͼ
-	 * @param style  
+	 * 设置折线图的线型
+	 * @param style  线型
 	 */
 	public void setLineStyle(byte style) {
 		this.lineStyle = style;
 	}
 
 	/**
-	 * ȡֵǩصʱǷʾһֵǩ
+	 * 取相邻数值或标签重叠时是否显示后一数值或标签
 	 * 
-	 * @return boolean ıصʱtrue򷵻false
+	 * @return boolean 允许文本重叠时返回true，否则返回false
 	 */
 	public boolean isShowOverlapText() {
 		return showOverlapText;
 	}
 
 	/**
-	 * ֵǩصʱǷʾһֵǩ
+	 * 设置相邻数值或标签重叠时是否显示后一数值或标签
 	 * 
-	 * @param b Ƿıص
+	 * @param b 是否允许文本重叠绘制
 	 */
 	public void setShowOverlapText(boolean b) {
 		this.showOverlapText = b;
 	}
 
 	/**
-	 * ȡͼǷһʾ
+	 * 取饼图中是否分离出一扇显示
 	 * 
-	 * @return boolean Ƿ
+	 * @return boolean 是否分离
 	 */
 	public boolean isPieSpacing() {
 		return pieSpacing;
 	}
 
 	/**
-	 * ǱɫǷ񽫿̶ȻƵɫĩ
-	 * 綨20Ϊɫʾʣ30Ϊɫʾ
-	 * ĩ˻Ϊ020ɫ2030ɫ
-	 * ĩʱ̶ָλɫм䣬ʱ1525ɫ20λɫм䣻2530Żɫ
+	 * 仪表盘着色是否将刻度绘制到颜色末端
+	 * 比如定义20度为绿色表示舒适，30度为红色表示炎热
+	 * 则按照末端绘制则为区间0到20画绿色，20到30画红色
+	 * 而非末端时指刻度位于颜色中间，此时15到25画绿色，让20位于颜色中间；而25到30才画红色。
 	 */
 	public boolean isMeterColorEnd() {
 		return isMeterColorEnd;
 	}
 	/**
-	 * ǷǱ̶̿ȱǩ
-	 * ̶ʱıǩ
+	 * 是否绘制仪表盘刻度标签
+	 * 不画刻度时仅标出定义的标签
 	 */
 	public boolean isMeterTick() {
 		return isMeterTick;
 	}
 	/**
-	 * ǷǱ̶̿ȱǩ
-	 * @param b Ƿ
+	 * 设置是否绘制仪表盘刻度标签
+	 * @param b 是否绘制
 	 */
 	public void setMeterTick(boolean b){
 		isMeterTick = b;
 	}
 	
 	/**
-	 * ȡǱ3d߿
+	 * 取仪表盘3d边框厚度
 	 */
 	public int getMeter3DEdge() {
 		return meter3DEdge;
 	}
 	
 	/**
-	 * ȡǱ̲ʺߺ
+	 * 取仪表盘彩虹边厚度
 	 */
 	public int getMeterRainbowEdge() {
 		return meterRainbowEdge;
 	}
 	/**
-	 * ȡͼ
+	 * 取饼图的连接线
 	 */
 	public int getPieLine() {
 		return pieLine;
 	}
 	
 	/**
-	 * ѻͼʱǷʾֵ
+	 * 堆积图形时，是否显示汇总值
 	 */
 	public boolean isDispStackSumValue(){
 		return isDispStackSumValue;
 	}
 	/**
-	 * öѻͼʱǷƻֵ
-	 * @param b Ƿ
+	 * 设置堆积图时是否绘制汇总值
+	 * @param b 是否绘制
 	 */
 	public void setDispStackSumValue(boolean b){
 		isDispStackSumValue = b;
 	}
 	 
 	/**
-	 * ñͼǷһʾ
+	 * 设置饼图中是否分离出一扇显示
 	 * 
 	 * @param b
-	 *            ͼǷһʾ
+	 *            饼图中是否分离出一扇显示
 	 */
 	public void setPieSpacing(boolean b) {
 		this.pieSpacing = b;
 	}
 
 	/**
-	 * ȡǩ
+	 * 取分类轴标签间隔
 	 * 
-	 * @return Stringǩ
+	 * @return String　分类轴标签间隔
 	 */
 	public int getXInterval() {
 		return xInterval;
 	}
 
 	/**
-	 * ÷ǩ
+	 * 设置分类轴标签间隔
 	 * 
 	 * @param interval
-	 *            ǩ
+	 *            分类轴标签间隔
 	 */
 	public void setXInterval(int interval) {
 		this.xInterval = interval;
 	}
 
 	/**
-	 * ͼǷԿֵ
+	 * 折线图是否忽略空值
 	 * 
 	 * @return boolean
 	 */
@@ -1311,7 +1311,7 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ͼǷԿֵ
+	 * 设置折线图是否忽略空值
 	 * 
 	 * @param b
 	 */
@@ -1320,38 +1320,38 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ǷӰ
+	 * 是否画阴影
 	 */
 	public boolean isDrawShade() {
 		return drawShade;
 	}
 
 	/**
-	 * ǷӰ
-	 * @param isDrawShade ǷӰ
+	 * 设置是否画阴影
+	 * @param isDrawShade 是否画阴影
 	 */
 	public void setDrawShade(boolean isDrawShade) {
 		drawShade = isDrawShade;
 	}
 
 	/**
-	 * ͼʽǷ͹߿
+	 * 柱图形式，是否画凸出边框
 	 */
 	public boolean isRaisedBorder() {
 		return raisedBorder;
 	}
 
 	/**
-	 * ͼǷ͹߿
-	 * @param isRaisedBorder Ƿ͹߿
+	 * 设置柱图是否绘制凸出边框
+	 * @param isRaisedBorder 是否凸出边框
 	 */
 	public void setRaisedBorder(boolean isRaisedBorder) {
 		raisedBorder = isRaisedBorder;
 	}
 
 	/**
-	 * ı־λȡʱ
-	 * οgetFlag(prop)
+	 * 可用于扩充的标志位，整体获取时无意义
+	 * 参考getFlag(prop)
 	 * @return
 	 */
 	public long getFlag() {
@@ -1359,25 +1359,25 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ñ־λ
-	 * @param newFlag ־λ
+	 * 设置标志位
+	 * @param newFlag 标志位
 	 */
 	public void setFlag(long newFlag) {
 		flag = newFlag;
 	}
 
 	/**
-	 * ȡ־λԣ
-	 * ĿǰֻʵFLAG_DISCARDOTHER
+	 * 获取标志位属性，可扩充
+	 * 目前只实现FLAG_DISCARDOTHER
 	 */
 	public boolean getFlag(byte prop) {
 		return (this.flag & (0x01 << prop)) != 0;
 	}
 
 	/**
-	 * ñ־λĲֵ
-	 * @param prop ־λ
-	 * @param isOn ״̬
+	 * 设置标志位的布尔值
+	 * @param prop 标志位
+	 * @param isOn 布尔状态
 	 */
 	public void setFlag(byte prop, boolean isOn) {
 		if (isOn) {
@@ -1388,44 +1388,44 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ȡͼ
-	 * @return ͼ
+	 * 取背景图配置
+	 * @return 背景图配置
 	 */
 	public BackGraphConfig getBackGraphConfig() {
 		return backGraph;
 	}
 
 	/**
-	 * ñͼ
-	 * @param backGraphConfig ͼ
+	 * 设置背景图配置
+	 * @param backGraphConfig 背景图对象
 	 */
 	public void setBackGraphConfig(BackGraphConfig backGraphConfig) {
 		backGraph = backGraphConfig;
 	}
 
 	/**
-	 * ȡͼıԼͼɫ
+	 * 取图形四边以及图例的颜色数组
 	 */
 	public int[] getAxisColors() {
 		return axisColors;
 	}
 
 	/**
-	 * ͼıԼͼɫ
+	 * 设置图形四边轴以及图例的颜色数组
 	 */
 	public void setAxisColors(int[] colors) {
 		axisColors = colors;
 	}
 
 	/**
-	 * ȡͼ߾
+	 * 取图形左边距
 	 */
 	public int getLeftMargin() {
 		return leftMargin;
 	}
 
 	/**
-	 * ͼε߾
+	 * 设置图形的左边距
 	 * @param leftMargin
 	 */
 	public void setLeftMargin(int leftMargin) {
@@ -1433,143 +1433,143 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ȡͼεұ߾
+	 * 取图形的右边距
 	 */
 	public int getRightMargin() {
 		return rightMargin;
 	}
 
 	/**
-	 * ͼεұ߾
-	 * @param rightMargin ұ߾
+	 * 设置图形的右边距
+	 * @param rightMargin 右边距
 	 */
 	public void setRightMargin(int rightMargin) {
 		this.rightMargin = rightMargin;
 	}
 
 	/**
-	 * ȡͼεĶ߾
+	 * 取图形的顶边距
 	 */
 	public int getTopMargin() {
 		return topMargin;
 	}
 
 	/**
-	 * ͼεĶ߾
-	 * @param topMargin ߾
+	 * 设置图形的顶边距
+	 * @param topMargin 顶边距
 	 */
 	public void setTopMargin(int topMargin) {
 		this.topMargin = topMargin;
 	}
 
 	/**
-	 * ȡͼεĵױ߾
+	 * 取图形的底边距
 	 */
 	public int getBottomMargin() {
 		return bottomMargin;
 	}
 
 	/**
-	 * ͼεĵױ߾
-	 * @param bottomMargin ױ߾
+	 * 设置图形的底边距
+	 * @param bottomMargin 底边距
 	 */
 	public void setBottomMargin(int bottomMargin) {
 		this.bottomMargin = bottomMargin;
 	}
 
 	/**
-	 * ȡ̶ȵĻƳ
+	 * 取刻度的绘制长度
 	 */
 	public int getTickLen() {
 		return tickLen;
 	}
 
 	/**
-	 * ÿ̶ȵĻƳ
-	 * @param tickLen 
+	 * 设置刻度的绘制长度
+	 * @param tickLen 长度
 	 */
 	public void setTickLen(int tickLen) {
 		this.tickLen = tickLen;
 	}
 
 	/**
-	 * ȡϵ
+	 * 取坐标系厚度
 	 */
 	public int getCoorWidth() {
 		return coorWidth;
 	}
 
 	/**
-	 * ȡϵ
-	 * @param coorWidth ֵ
+	 * 获取坐标系厚度
+	 * @param coorWidth 厚度值
 	 */
 	public void setCoorWidth(int coorWidth) {
 		this.coorWidth = coorWidth;
 	}
 
 	/**
-	 * ȡͼηļ϶ֵ
+	 * 取图形分类的间隙值
 	 */
 	public double getCategorySpan() {
 		return categorySpan;
 	}
 
 	/**
-	 * ͼηֵ֮ļ϶
-	 * @param categorySpan ϶ֵ
+	 * 设置图形分类值之间的间隙
+	 * @param categorySpan 间隙值
 	 */
 	public void setCategorySpan(double categorySpan) {
 		this.categorySpan = categorySpan;
 	}
 
 	/**
-	 * ȡϵ֮ļ϶ֵ
+	 * 取相邻系列之间的间隙值
 	 */
 	public int getSeriesSpan() {
 		return seriesSpan;
 	}
 
 	/**
-	 * ϵ֮ļ϶ֵ
-	 * @param seriesSpan ϶ֵ
+	 * 设置系列之间的间隙值
+	 * @param seriesSpan 间隙值
 	 */
 	public void setSeriesSpan(int seriesSpan) {
 		this.seriesSpan = seriesSpan;
 	}
 
 	/**
-	 * ȡͼתǶ
+	 * 取饼图的旋转角度
 	 */
 	public int getPieRotation() {
 		return pieRotation;
 	}
 
 	/**
-	 * ñͼתǶ
-	 * @param pieRotation Ƕ
+	 * 设置饼图的旋转角度
+	 * @param pieRotation 角度
 	 */
 	public void setPieRotation(int pieRotation) {
 		this.pieRotation = pieRotation;
 	}
 
 	/**
-	 * ȡͼĸ߶
+	 * 取立体饼图的高度
 	 */
 	public int getPieHeight() {
 		return pieHeight;
 	}
 
 	/**
-	 * ͼĸ߶
-	 * @param pieHeight ߶ֵ
+	 * 设置立体饼图的高度
+	 * @param pieHeight 高度值
 	 */
 	public void setPieHeight(int pieHeight) {
 		this.pieHeight = pieHeight;
 	}
 
 	/**
-	 * ù
-	 * @param pp 
+	 * 设置共有属性
+	 * @param pp 共有属性
 	 */
 	public void setPublicProperty(PublicProperty pp){
 		type=pp.getType();
@@ -1654,9 +1654,9 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 	
 	/**
-	 * ȿ¡
+	 * 深度克隆
 	 * 
-	 * @return Object ¡ͼ
+	 * @return Object 克隆的图形属性
 	 */
 	public Object deepClone() {
 		GraphProperty gp = new GraphProperty();
@@ -1665,7 +1665,7 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * 汾л
+	 * 按版本序列化
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
 		out.writeByte(9);
@@ -1747,7 +1747,7 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * 汾л
+	 * 按版本反序列化
 	 */
 	public void readExternal(ObjectInput in) throws IOException,
 			ClassNotFoundException {
@@ -1845,7 +1845,7 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public byte[] serialize() throws IOException {
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -1945,7 +1945,7 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public void fillRecord(byte[] buf) throws IOException,
 			ClassNotFoundException {
@@ -2055,50 +2055,50 @@ public class PublicProperty implements IGraphProperty, ICloneable,
 	}
 
 	/**
-	 * ѻϵ
-	 * 繲ѧӢ7ſΣֻעѧĿγ̿Իһϵ
+	 * 设置其他堆积系列
+	 * 比如共有语文数学英语等7门课，现在只关注语文数学，其他的课程可以汇总在一起，列在其他系列
 	 */
 	public void setOtherStackedSeries(String other) {
 		this.otherStackedSeries = other;
 	}
 
 	/**
-	 * ȡѻ
+	 * 取其他堆积序列
 	 */
 	public String getOtherStackedSeries() {
 		return otherStackedSeries;
 	}
 
 	/**
-	 * ˮƽ뷽ʽ
+	 * 横轴标题的水平对齐方式
 	 */
 	public byte getXTitleAlign() {
 		return IStyle.HALIGN_CENTER;
 	}
 	
 	/**
-	 * Ĵֱ뷽ʽ
+	 * 纵轴标题的垂直对齐方式
 	 */
 	public byte getYTitleAlign() {
 		return IStyle.VALIGN_MIDDLE;
 	}
 
 	/**
-	 * ͼαˮƽ뷽ʽ
+	 * 图形标题的水平对齐方式
 	 */
 	public byte getGraphTitleAlign() {
 		return IStyle.HALIGN_CENTER;
 	}
 
 	/**
-	 * λ
+	 * 网格线位置
 	 */
 	public byte getGridLocation() {
 		return gridLineLocation;
 	}
 
 	/**
-	 * λ
+	 * 设置网格线位置
 	 */
 	public void setGridLocation(byte loc) {
 		gridLineLocation = loc;
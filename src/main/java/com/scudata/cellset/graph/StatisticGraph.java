@@ -13,18 +13,18 @@ import java.io.*;
 import javax.swing.*;
 
 /**
- * ͳͼļʵ
- * ͳͼͼԪͬͳͼճͳͼúԣĬϵ
- * ͼԪ൱ڻľòͬͼԪԼϳͳͼ
+ * 整体统计图的计算实现
+ * 整体统计图相对于图元不同，整体统计图按照常见统计图配置好所有属性，默认坐标系
+ * 图元相当于积木，可以用不同图元以及周组合出各种类似整体统计图
  * @author Joancy
  *
  */
 public class StatisticGraph {
 
 	/**
-	 * תΪͼǰչͼ
-	 * @param prop 
-	 * @return չͼ
+	 * 将共有属性转换为绘图前的扩展图形属性
+	 * @param prop 共有属性
+	 * @return 扩展图形属性
 	 */
 	public static ExtGraphProperty calc1(PublicProperty prop) {
 		ExtGraphProperty catMap = new ExtGraphProperty(prop);
@@ -49,7 +49,7 @@ public class StatisticGraph {
 		catMap.setLink(prop.getLink());
 		catMap.setLinkTarget(prop.getLinkTarget());
 
-		/** ͳͼɫ */
+		/** 统计图的配色方案名 */
 		Palette pltt = Palette.getDefaultPalette();
 		str = prop.getColorConfig();
 		if (StringUtils.isValidString(str)) {
@@ -60,7 +60,7 @@ public class StatisticGraph {
 		}
 		catMap.setPalette(pltt);
 
-		/** ͳֵʼֵ */
+		/** 统计值起始值 */
 		str = prop.getYStartValue();
 		if (StringUtils.isValidString(str)) {
 			ArgumentTokenizer st = new ArgumentTokenizer(str, ';');
@@ -72,7 +72,7 @@ public class StatisticGraph {
 			}
 		}
 
-		/** ͳֵֵ */
+		/** 统计值结束值 */
 		str = prop.getYEndValue();
 		if (StringUtils.isValidString(str)) {
 			ArgumentTokenizer st = new ArgumentTokenizer(str, ';');
@@ -83,7 +83,7 @@ public class StatisticGraph {
 				catMap.setYEndValue2(Double.parseDouble(st.nextToken()));
 			}
 		}
-		/** ͳֵǩ */
+		/** 统计值标签间隔 */
 		str = prop.getYInterval();
 		if (StringUtils.isValidString(str)) {
 			ArgumentTokenizer st = new ArgumentTokenizer(str, ';');
@@ -95,7 +95,7 @@ public class StatisticGraph {
 			}
 		}
 
-		/** ͳֵٿ̶ */
+		/** 统计值最少刻度数 */
 		catMap.setYMinMarks(prop.getYMinMarks());
 		catMap.setTitleMargin(prop.getTitleMargin());
 		catMap.setXInterval(prop.getXInterval());
@@ -103,10 +103,10 @@ public class StatisticGraph {
 	}
 
 	/**
-	 * ͼָʽתΪͼ
-	 * @param bi ͼ
-	 * @param imageFmt ͼƬʽ
-	 * @return ͼ
+	 * 将缓冲图像按照指定格式转为图像数据
+	 * @param bi 缓冲图像
+	 * @param imageFmt 图片格式
+	 * @return 图像数据
 	 * @throws Exception
 	 */
 	public static byte[] getImageBytes(BufferedImage bi, byte imageFmt)
@@ -133,7 +133,7 @@ public class StatisticGraph {
 		InputStream fis = null;
 		try {
 			File file = new File(picFile);
-			if (file.exists()) { // ·ʾļ
+			if (file.exists()) { // 绝对路径表示的文件
 				fis = new FileInputStream(picFile);
 			} else {
 				String paths[] = Env.getPaths();
@@ -160,11 +160,11 @@ public class StatisticGraph {
 	}
 
 	/**
-	 * ִбͼ
-	 * @param g ͼ豸
-	 * @param egp չͼ
-	 * @param w 
-	 * @param h ߶
+	 * 执行背景图绘制
+	 * @param g 图形设备
+	 * @param egp 扩展图形属性
+	 * @param w 宽度
+	 * @param h 高度
 	 */
 	public static void drawBackGraph(Graphics2D g, ExtGraphProperty egp,
 			int w, int h) {
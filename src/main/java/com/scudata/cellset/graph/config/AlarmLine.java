@@ -7,69 +7,69 @@ import com.scudata.common.*;
 import java.awt.*;
 
 /**
- * ͳͼеľ
+ * 统计图中的警戒线属性类
  */
 public class AlarmLine implements ICloneable, Externalizable, IRecord {
 	private final static long serialVersionUID = 82857881736578L;
 	private byte version = (byte) 3;
-	// 汾3 ʶֵ
+	// 版本3，增加 标识警戒值
 
-	/** ơ */
+	/** 　警戒线名称　 */
 	private String name;
-	/** ֵ */
+	/** 　警戒值　 */
 	private String alarmValue;
-	/** ͡ */
+	/** 　警戒线类型　 */
 	private byte lineType = IGraphProperty.LINE_SOLID;
-	/** ɫ */
+	/** 警戒线颜色 */
 	private int color = Color.red.getRGB();
 
-	private byte lineThick = 1; /* ͼĴϸ */
-	private boolean isDrawAlarmValue = true; /* ʶֵ */
+	private byte lineThick = 1; /* 折线图的粗细度 */
+	private boolean isDrawAlarmValue = true; /* 标识警戒值 */
 
 	/**
-	 * 
+	 * 设置名称
 	 * 
 	 * @param name
-	 *            
+	 *            名称
 	 */
 	public void setName(String name) {
 		this.name = name;
 	}
 
 	/**
-	 * þֵ
+	 * 设置警戒值
 	 * 
 	 * @param value
-	 *            ֵ
+	 *            警戒值
 	 */
 	public void setAlarmValue(String value) {
 		this.alarmValue = value;
 	}
 
 	/**
-	 * Ƿƾֵ
+	 * 设置是否绘制警戒值
 	 * 
 	 * @param isDrawAlarmValue
-	 *            Ƿ
+	 *            是否绘制
 	 */
 	public void setDrawAlarmValue(boolean isDrawAlarmValue) {
 		this.isDrawAlarmValue = isDrawAlarmValue;
 	}
 
 	/**
-	 * ȡǷƾֵ
+	 * 取是否绘制警戒值
 	 * 
-	 * @return Ʒtrue򷵻false
+	 * @return 绘制返回true，否则返回false
 	 */
 	public boolean isDrawAlarmValue() {
 		return isDrawAlarmValue;
 	}
 
 	/**
-	 * þ
+	 * 设置警戒线类型
 	 * 
 	 * @param type
-	 *            ͣȡֵΪGraphProperty.LINE_NONE, LINE_SOLID, LINE_LONG_DASH,
+	 *            警戒线类型，取值为GraphProperty.LINE_NONE, LINE_SOLID, LINE_LONG_DASH,
 	 *            LINE_SHORT_DASH, LINE_DOT_DASH, LINE_2DOT_DASH
 	 */
 	public void setLineType(byte type) {
@@ -77,37 +77,37 @@ public class AlarmLine implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ɫ
+	 * 设置颜色
 	 * 
 	 * @param color
-	 *            ɫֵ
+	 *            颜色值
 	 */
 	public void setColor(int color) {
 		this.color = color;
 	}
 
 	/**
-	 * ȡ
+	 * 取名称
 	 * 
-	 * @return String
+	 * @return String　名称
 	 */
 	public String getName() {
 		return name;
 	}
 
 	/**
-	 * ȡֵ
+	 * 取警戒值
 	 * 
-	 * @return Stringֵ
+	 * @return String　警戒值
 	 */
 	public String getAlarmValue() {
 		return alarmValue;
 	}
 
 	/**
-	 * ȡ
+	 * 取警戒线类型
 	 * 
-	 * @return byteֵͣΪGraphProperty.LINE_NONE, LINE_SOLID, LINE_LONG_DASH,
+	 * @return byte　警戒线类型，值为GraphProperty.LINE_NONE, LINE_SOLID, LINE_LONG_DASH,
 	 *         LINE_SHORT_DASH, LINE_DOT_DASH, LINE_2DOT_DASH
 	 */
 	public byte getLineType() {
@@ -115,28 +115,28 @@ public class AlarmLine implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ȡɫ
+	 * 取颜色
 	 * 
-	 * @return intɫ
+	 * @return int　颜色
 	 */
 	public int getColor() {
 		return color;
 	}
 
 	/**
-	 * ߴϸ
+	 * 警戒线粗细度
 	 * 
-	 * @return byte ֶ
+	 * @return byte 粗度
 	 */
 	public byte getLineThick() {
 		return lineThick;
 	}
 
 	/**
-	 * ߵĴֶ
+	 * 设置线的粗度
 	 * 
 	 * @param thick
-	 *            ֵֶ
+	 *            粗度值
 	 */
 	public void setLineThick(byte thick) {
 		if (thick < 0 || thick > 10) {
@@ -146,9 +146,9 @@ public class AlarmLine implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ȿ¡
+	 * 深度克隆
 	 * 
-	 * @return Object ¡ľ߶
+	 * @return Object 克隆的警戒线对象
 	 */
 	public Object deepClone() {
 		AlarmLine line = new AlarmLine();
@@ -162,7 +162,7 @@ public class AlarmLine implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵлӿ
+	 * 实现序列化接口
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
 		out.writeByte(version);
@@ -175,7 +175,7 @@ public class AlarmLine implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵлӿ
+	 * 实现序列化接口
 	 */
 	public void readExternal(ObjectInput in) throws IOException,
 			ClassNotFoundException {
@@ -193,7 +193,7 @@ public class AlarmLine implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public byte[] serialize() throws IOException {
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -207,7 +207,7 @@ public class AlarmLine implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public void fillRecord(byte[] buf) throws IOException,
 			ClassNotFoundException {
@@ -7,7 +7,7 @@ import com.scudata.common.*;
 import java.awt.*;
 
 /**
- *  ͳͼеඨ
+ *  统计图中的字体类定义
  * @author Joancy
  *
  */
@@ -15,136 +15,136 @@ public class GraphFont implements ICloneable, Externalizable, IRecord {
 	private final static long serialVersionUID = 82857881736578L;
 	private byte version = ( byte ) 1;
 
-	/**  */
+	/** 字体名称 */
 	private String family;
-	/** С */
+	/** 字体大小 */
 	private int size = 12;
-	/** ǷԶС */
+	/** 是否自动调整大小 */
 	private boolean autoResize = false;
-	/** Ƿ */
+	/** 是否粗体 */
 	private boolean bold = false;
-	/** ɫ */
+	/** 字体颜色 */
 	private int color = Color.black.getRGB();
-	/** Ƿ */
+	/** 是否竖排文字 */
 	private boolean verticalText = false;
-	/** תǶ */
+	/** 旋转角度 */
 	private int angle;
 
 	/**
-	 * 
-	 * @param family 
+	 * 设置字体名称
+	 * @param family 字体名称
 	 */
 	public void setFamily( String family ) {
 		this.family = family;
 	}
 
 	/**
-	 * С
-	 * @param size С
+	 * 设置字体大小
+	 * @param size 字体大小
 	 */
 	public void setSize( int size ) {
 		this.size = size;
 	}
 
 	/**
-	 * ǷԶС
-	 * @param b ǷԶ
+	 * 设置是否自动调整字体大小
+	 * @param b 是否自动调整
 	 */
 	public void setAutoResize( boolean b ) {
 		this.autoResize = b;
 	}
 
 	/**
-	 * Ƿ
-	 * @param b Ƿ
+	 * 设置是否粗体
+	 * @param b 是否粗体
 	 */
 	public void setBold( boolean b ) {
 		this.bold = b;
 	}
 
 	/**
-	 * ɫ
-	 * @param c ɫֵ
+	 * 设置字体颜色
+	 * @param c 颜色值
 	 */
 	public void setColor( int c ) {
 		this.color = c;
 	}
 
 	/**
-	 * Ƿ
-	 * @param b Ƿ
+	 * 设置是否竖排文字
+	 * @param b 是否竖排文字
 	 */
 	public void setVerticalText( boolean b ) {
 		this.verticalText = b;
 	}
 
 	/**
-	 * תǶ
-	 * @param angle Ƕֵ
+	 * 设置旋转角度
+	 * @param angle 角度值
 	 */
 	public void setAngle( int angle ) {
 		this.angle = angle;
 	}
 
 	/**
-	 * ȡ
-	 * @return String
+	 * 取字体名称
+	 * @return String　字体名称
 	 */
 	public String getFamily() {
 		return family;
 	}
 
 	/**
-	 * ȡС
-	 * @return intС
+	 * 取字体大小
+	 * @return int　字体大小
 	 */
 	public int getSize() {
 		return size;
 	}
 
 	/**
-	 * ǷԶС
-	 * @return boolean Զʱtrue򷵻false
+	 * 是否自动调整大小
+	 * @return boolean 自动调整时返回true，否则返回false
 	 */
 	public boolean isAutoResize() {
 		return autoResize;
 	}
 
 	/**
-	 * Ƿ
-	 * @return boolean 巵true򷵻false
+	 * 是否粗体
+	 * @return boolean 粗体返回true，否则返回false
 	 */
 	public boolean isBold() {
 		return bold;
 	}
 
 	/**
-	 * ȡɫ
-	 * @return intɫ
+	 * 取字体颜色
+	 * @return int　字体颜色
 	 */
 	public int getColor() {
 		return color;
 	}
 
 	/**
-	 * Ƿ
-	 * @return boolean ַtrue򷵻false
+	 * 是否竖排文字
+	 * @return boolean 竖排文字返回true，否则返回false
 	 */
 	public boolean isVerticalText() {
 		return verticalText;
 	}
 
 	/**
-	 * ȡתǶ
-	 * @return intתǶ
+	 * 取旋转角度
+	 * @return int　旋转角度
 	 */
 	public int getAngle() {
 		return angle;
 	}
 
 	/**
-	 * ȿ¡
-	 * @return Object ¡
+	 * 深度克隆
+	 * @return Object 克隆后的字体对象
 	 */
 	public Object deepClone() {
 		GraphFont font = new GraphFont();
@@ -159,7 +159,7 @@ public class GraphFont implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵлӿ
+	 * 实现序列化接口
 	 */
 	public void writeExternal( ObjectOutput out ) throws IOException{
 		out.writeByte( version );
@@ -173,7 +173,7 @@ public class GraphFont implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵлӿ
+	 * 实现序列化接口
 	 */
 	public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException{
 		byte ver = in.readByte();
@@ -187,7 +187,7 @@ public class GraphFont implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public byte[] serialize() throws IOException{
 	  ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -202,7 +202,7 @@ public class GraphFont implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public void fillRecord(byte[] buf) throws IOException, ClassNotFoundException {
 	  ByteArrayInputRecord in = new ByteArrayInputRecord(buf);
@@ -5,7 +5,7 @@ import java.io.*;
 import com.scudata.common.*;
 
 /**
- * װͳͼõ
+ * 封装统计图用到的所有类型字体
  * 
  * @author Joancy
  *
@@ -14,23 +14,23 @@ public class GraphFonts implements ICloneable, Externalizable, IRecord {
 	private final static long serialVersionUID = 82857881736578L;
 	private byte version = ( byte ) 1;
 
-	/** ͳͼ */
+	/** 统计图标题字体 */
 	private GraphFont titleFont;
-	/** ͳͼ */
+	/** 统计图横轴标题字体 */
 	private GraphFont xTitleFont;
-	/** ͳͼ */
+	/** 统计图纵轴标题字体 */
 	private GraphFont yTitleFont;
-	/** ͳͼǩ */
+	/** 统计图横轴标签字体 */
 	private GraphFont xLabelFont;
-	/** ͳͼǩ */
+	/** 统计图纵轴标签字体 */
 	private GraphFont yLabelFont;
-	/** ͳͼͼ */
+	/** 统计图图例字体 */
 	private GraphFont legendFont;
-	/** ͳͼͼʾ */
+	/** 统计图图中显示数据字体 */
 	private GraphFont dataFont;
 
 	/**
-	 * ȱʡֵ캯
+	 * 缺省值构造函数
 	 */
 	public GraphFonts() {
 		titleFont = new GraphFont();
@@ -43,120 +43,120 @@ public class GraphFonts implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ȡ
-	 * @return GraphFont
+	 * 取标题字体
+	 * @return GraphFont　标题字体
 	 */
 	public GraphFont getTitleFont() {
 		return titleFont;
 	}
 
 	/**
-	 * ñ
-	 * @param font 
+	 * 设置标题字体
+	 * @param font 标题字体
 	 */
 	public void setTitleFont( GraphFont font ) {
 		this.titleFont = font;
 	}
 
 	/**
-	 * ȡ
-	 * @return GraphFont
+	 * 取横轴标题字体
+	 * @return GraphFont　横轴标题字体
 	 */
 	public GraphFont getXTitleFont() {
 		return xTitleFont;
 	}
 
 	/**
-	 * ú
-	 * @param font 
+	 * 设置横轴标题字体
+	 * @param font 横轴标题字体
 	 */
 	public void setXTitleFont( GraphFont font ) {
 		this.xTitleFont = font;
 	}
 
 	/**
-	 * ȡ
-	 * @return GraphFont
+	 * 取纵轴标题字体
+	 * @return GraphFont　纵轴标题字体
 	 */
 	public GraphFont getYTitleFont() {
 		return yTitleFont;
 	}
 
 	/**
-	 * 
-	 * @param font 
+	 * 设置纵轴标题字体
+	 * @param font 纵轴标题字体
 	 */
 	public void setYTitleFont( GraphFont font ) {
 		this.yTitleFont = font;
 	}
 
 	/**
-	 * ȡǩ
-	 * @return GraphFontǩ
+	 * 取横轴标签字体
+	 * @return GraphFont　横轴标签字体
 	 */
 	public GraphFont getXLabelFont() {
 		return xLabelFont;
 	}
 
 	/**
-	 * úǩ
-	 * @param font ǩ
+	 * 设置横轴标签字体
+	 * @param font 横轴标签字体
 	 */
 	public void setXLabelFont( GraphFont font ) {
 		this.xLabelFont = font;
 	}
 
 	/**
-	 * ȡǩ
-	 * @return GraphFontǩ
+	 * 取纵轴标签字体
+	 * @return GraphFont　纵轴标签字体
 	 */
 	public GraphFont getYLabelFont() {
 		return yLabelFont;
 	}
 
 	/**
-	 * ǩ
-	 * @param font ǩ
+	 * 设置纵轴标签字体
+	 * @param font 纵轴标签字体
 	 */
 	public void setYLabelFont( GraphFont font ) {
 		this.yLabelFont = font;
 	}
 
 	/**
-	 * ȡͼ
-	 * @return GraphFontͼ
+	 * 取图例字体
+	 * @return GraphFont　图例字体
 	 */
 	public GraphFont getLegendFont() {
 		return legendFont;
 	}
 
 	/**
-	 * ͼ
-	 * @param font ͼ
+	 * 设置图例字体
+	 * @param font 图例字体
 	 */
 	public void setLegendFont( GraphFont font ) {
 		this.legendFont = font;
 	}
 
 	/**
-	 * ȡͼʾ
-	 * @return GraphFontͼʾ
+	 * 取图中显示数据字体
+	 * @return GraphFont　图中显示数据字体
 	 */
 	public GraphFont getDataFont() {
 		return dataFont;
 	}
 
 	/**
-	 * ͼʾ
-	 * @param font ͼʾ
+	 * 设置图中显示数据字体
+	 * @param font 图中显示数据字体
 	 */
 	public void setDataFont( GraphFont font ) {
 		this.dataFont = font;
 	}
 
 	/**
-	 * ȿ¡
-	 * @return Object ¡弯
+	 * 深度克隆
+	 * @return Object 克隆后的字体集合
 	 */
 	public Object deepClone() {
 		GraphFonts fonts = new GraphFonts();
@@ -171,7 +171,7 @@ public class GraphFonts implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵлӿ
+	 * 实现序列化接口
 	 */
 	public void writeExternal( ObjectOutput out ) throws IOException{
 		out.writeByte( version );
@@ -185,7 +185,7 @@ public class GraphFonts implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵлӿ
+	 * 实现序列化接口
 	 */
 	public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException{
 		byte ver = in.readByte();
@@ -199,7 +199,7 @@ public class GraphFonts implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public byte[] serialize() throws IOException{
 	  ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -214,7 +214,7 @@ public class GraphFonts implements ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ʵIRecordӿ
+	 * 实现IRecord接口
 	 */
 	public void fillRecord(byte[] buf) throws IOException, ClassNotFoundException {
 	  ByteArrayInputRecord in = new ByteArrayInputRecord(buf);
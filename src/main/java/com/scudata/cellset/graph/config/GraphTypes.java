@@ -1,166 +1,166 @@
 package com.scudata.cellset.graph.config;
 
 /**
- * ͳͼͳ
+ * 定义统计图类型常量
  */
 public class GraphTypes {
 	/**
-	 * ͼ
+	 * 区域图
 	 */
 	public static final byte GT_AREA = ( byte ) 1;
 
 	/**
-	 * ͼ
+	 * 条形图
 	 */
 	public static final byte GT_BAR = ( byte ) 2;
 
 	/**
-	 * άͼ
+	 * 三维条形图
 	 */
 	public static final byte GT_BAR3D = ( byte ) 3;
 
 	/**
-	 * ά״ͼ
+	 * 三维簇状条形图
 	 */
 	public static final byte GT_BAR3DOBJ = ( byte ) 4;
 
 	/**
-	 * ѻͼ
+	 * 堆积条形图
 	 */
 	public static final byte GT_BARSTACKED = ( byte ) 5;
 
 	/**
-	 * άѻͼ
+	 * 三维堆积条形图
 	 */
 	public static final byte GT_BARSTACKED3DOBJ = ( byte ) 6;
 
 	/**
-	 * ͼ
+	 * 柱形图
 	 */
 	public static final byte GT_COL = ( byte ) 7;
 
 	/**
-	 * άͼ
+	 * 三维柱形图
 	 */
 	public static final byte GT_COL3D = ( byte ) 8;
 
 	/**
-	 * ά״ͼ
+	 * 三维簇状柱形图
 	 */
 	public static final byte GT_COL3DOBJ = ( byte ) 9;
 
 	/**
-	 * ѻͼ
+	 * 堆积柱形图
 	 */
 	public static final byte GT_COLSTACKED = ( byte ) 10;
 
 	/**
-	 * άѻͼ
+	 * 三维堆积柱形图
 	 */
 	public static final byte GT_COLSTACKED3DOBJ = ( byte ) 11;
 
 	/**
-	 * ͼ
+	 * 折线图
 	 */
 	public static final byte GT_LINE = ( byte ) 12;
 
 	/**
-	 * ͼ
+	 * 饼型图
 	 */
 	public static final byte GT_PIE = ( byte ) 13;
 
 	/**
-	 * ɢͼ
+	 * 散列图
 	 */
 	public static final byte GT_SCATTER = ( byte ) 14;
 
 	/**
-	 * άͼ
+	 * 三维区域图
 	 */
 	public static final byte GT_AREA3D = ( byte ) 15;
 
 	/**
-	 * άͼ
+	 * 三维折线图
 	 */
 	public static final byte GT_LINE3DOBJ = ( byte ) 16;
 
 	/**
-	 * άͼ
+	 * 三维饼型图
 	 */
 	public static final byte GT_PIE3DOBJ = ( byte ) 17;
 
 	/**
-	 * ʱ״̬ͼ
+	 * 时序状态图
 	 */
 	public static final byte GT_TIMESTATE = ( byte ) 18;
 
 	/**
-	 * ʱͼ
+	 * 时间走势图
 	 */
 	public static final byte GT_TIMETREND = ( byte ) 19;
 
 	/**
-	 * ˫ͼ
+	 * 双轴柱线图
 	 */
 	public static final byte GT_2YCOLLINE = ( byte ) 21;
 
 	/**
-	 * ˫ͼ
+	 * 双轴折线图
 	 */
 	public static final byte GT_2Y2LINE = ( byte ) 20;
 
 	/**
-	 * ״ͼ
+	 * 雷达图
 	 */
 	public static final byte GT_RADAR = ( byte ) 22;
 
 	/**
-	 * ͼ
+	 * 甘特图
 	 */
 	public static final byte GT_GANTT = ( byte ) 23;
 
 	/**
-	 * Ǳ
+	 * 仪表盘
 	 */
 	public static final byte GT_METER = ( byte ) 24;
 
 	/**
-	 * ̱
+	 * 里程碑
 	 */
 	public static final byte GT_MILEPOST = ( byte ) 25;
 
 	/**
-	 * ȫͼ
+	 * 全距图
 	 */
 	public static final byte GT_RANGE = ( byte ) 26;
 
 	/**
-	 * ͼ
+	 * 工字图
 	 */
 	public static final byte GT_GONGZI = ( byte ) 27;
 
 	/**
-	 * 3DǱ
+	 * 3D仪表盘
 	 */
 	public static final byte GT_METER3D = ( byte ) 28;
 
 	/**
-	 * ͼ
+	 * 曲线图
 	 */
 	public static final byte GT_CURVE = ( byte ) 29;
 	
 	/**
-	 * ˫ѻͼ
+	 * 双轴堆积柱线图
 	 */
 	public static final byte GT_2YCOLSTACKEDLINE = ( byte ) 30;
 	
 	/**
-	 * άͼͼ
+	 * 三维点图，气泡图
 	 */
 	public static final byte GT_DOT3D = ( byte ) 31;
 	
 	/**
-	 * Զͳͼ
+	 * 自定义统计图
 	 */
 //	public static final byte GT_CUSTOM = ( byte )0xFF;
 }
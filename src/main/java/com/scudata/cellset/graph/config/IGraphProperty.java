@@ -3,136 +3,136 @@ package com.scudata.cellset.graph.config;
 import com.scudata.chart.Consts;
 
 /**
- * ͼԽӿڣԼͼγ
+ * 图形属性接口，以及图形常量定义
  * @author Joancy
  *
  */
 public interface IGraphProperty{
-  /** λ -- ֵ */
+  /** 网格线位置 -- 数值轴 */
   public static final byte GRID_VALUE = (byte)Consts.GRID_VALUE;
-  /** λ --  */
+  /** 网格线位置 -- 分类轴 */
   public static final byte GRID_CATEGORY = (byte)Consts.GRID_CATEGORY;
-  /** λ -- ȫ*/
+  /** 网格线位置 -- 全部*/
   public static final byte GRID_BOTH = (byte)Consts.GRID_BOTH;
 
-  /**  -- û */
+  /** 线类型 -- 没有线 */
   public static final byte LINE_NONE = (byte)Consts.LINE_NONE;
 
-  /**  -- ʵ */
+  /** 线类型 -- 实线 */
   public static final byte LINE_SOLID = (byte)Consts.LINE_SOLID;
 
-  /**  --  */
+  /** 线类型 -- 长虚线 */
   public static final byte LINE_LONG_DASH = (byte)Consts.LINE_DASHED;
 
-  /**  --  */
+  /** 线类型 -- 短虚线 */
   public static final byte LINE_SHORT_DASH = (byte)Consts.LINE_DOTTED;
 
-  /**  -- 㻮 */
+  /** 线类型 -- 点划线 */
   public static final byte LINE_DOT_DASH = (byte)Consts.LINE_DOTDASH;
 
-  /**  -- ˫㻮 */
+  /** 线类型 -- 双点划线 */
   public static final byte LINE_2DOT_DASH = (byte)Consts.LINE_DOUBLE;
 
-  /** ͼθʽ -- JPG  */
+  /** 图形格式 -- JPG  */
   public static final byte IMAGE_JPG = Consts.IMAGE_JPG;
 
-  /** ͼθʽ -- GIF  */
+  /** 图形格式 -- GIF  */
   public static final byte IMAGE_GIF = Consts.IMAGE_GIF;
 
-  /** ͼθʽ -- PNG  */
+  /** 图形格式 -- PNG  */
   public static final byte IMAGE_PNG = Consts.IMAGE_PNG;
 
-  /** ͼθʽ -- FLASH*/
+  /** 图形格式 -- FLASH*/
   public static final byte IMAGE_FLASH = Consts.IMAGE_FLASH;
 
-  /** ͼθʽ -- SVG */
+  /** 图形格式 -- SVG */
   public static final byte IMAGE_SVG = Consts.IMAGE_SVG;
 
-  /** ʱ̶ --   */
+  /** 时间刻度类型 -- 年  */
   public static final byte TIME_YEAR = (byte) 1;
 
-  /** ʱ̶ --   */
+  /** 时间刻度类型 -- 月  */
   public static final byte TIME_MONTH = (byte) 2;
 
-  /** ʱ̶ --   */
+  /** 时间刻度类型 -- 日  */
   public static final byte TIME_DAY = (byte) 3;
 
-  /** ʱ̶ -- ʱ  */
+  /** 时间刻度类型 -- 时  */
   public static final byte TIME_HOUR = (byte) 4;
 
-  /** ʱ̶ --   */
+  /** 时间刻度类型 -- 分  */
   public static final byte TIME_MINUTE = (byte) 5;
 
-  /** ʱ̶ --   */
+  /** 时间刻度类型 -- 秒  */
   public static final byte TIME_SECOND = (byte) 6;
 
-  /** ͼʾ --   */
+  /** 图中显示数据 -- 无  */
   public static final byte DISPDATA_NONE = (byte) 1;
 
-  /** ͼʾ -- ͳֵ  */
+  /** 图中显示数据 -- 统计值  */
   public static final byte DISPDATA_VALUE = (byte) 2;
 
-  /** ͼʾ -- ٷֱ  */
+  /** 图中显示数据 -- 百分比  */
   public static final byte DISPDATA_PERCENTAGE = (byte) 3;
 
-  /** ͼʾ -- ʾϵб  */
+  /** 图中显示数据 -- 显示系列标题  */
   public static final byte DISPDATA_TITLE = (byte) 4;
   
-  /** ͼʾ -- ƺͳֵ  */
+  /** 图中显示数据 -- 名称和统计值  */
   public static final byte DISPDATA_NAME_VALUE = (byte) 5;
   
-  /** ͼʾ -- ƺͰٷֱ  */
+  /** 图中显示数据 -- 名称和百分比  */
   public static final byte DISPDATA_NAME_PERCENTAGE = (byte) 6;
 
-  /** ͼλ --   */
+  /** 图例位置 -- 左边  */
   public static final byte LEGEND_LEFT = (byte) 1;
 
-  /** ͼλ -- ұ  */
+  /** 图例位置 -- 右边  */
   public static final byte LEGEND_RIGHT = (byte) 2;
 
-  /** ͼλ -- ϱ  */
+  /** 图例位置 -- 上边  */
   public static final byte LEGEND_TOP = (byte) 3;
 
-  /** ͼλ -- ±  */
+  /** 图例位置 -- 下边  */
   public static final byte LEGEND_BOTTOM = (byte) 4;
 
-  /** ͼλ --   */
+  /** 图例位置 -- 无  */
   public static final byte LEGEND_NONE = (byte) 5;
 
-  /** ͳֵλ --  */
+  /** 统计值数量单位 -- 无缩放 */
   public static final double UNIT_ORIGIN = 1;
 
-  /** ͳֵλ -- Զ */
+  /** 统计值数量单位 -- 自动计算 */
   public static final double UNIT_AUTO = 2;
 
-  /** ͳֵλ -- ǧ */
+  /** 统计值数量单位 -- 千 */
   public static final double UNIT_THOUSAND = 1000;
 
-  /** ͳֵλ --  */
+  /** 统计值数量单位 -- 万 */
   public static final double UNIT_10THOUSAND = 10000;
 
-  /** ͳֵλ --  */
+  /** 统计值数量单位 -- 百万 */
   public static final double UNIT_MILLION = 1000000;
 
-  /** ͳֵλ -- ǧ */
+  /** 统计值数量单位 -- 千万 */
   public static final double UNIT_10MILLION = 10000000;
 
-  /** ͳֵλ --  */
+  /** 统计值数量单位 -- 亿 */
   public static final double UNIT_100MILLION = 100000000;
 
-  /** ͳֵλ -- ʮ */
+  /** 统计值数量单位 -- 十亿 */
   public static final double UNIT_BILLION = 1000000000;
 
-  /** ͳֵλ -- ٷ֮һ */
+  /** 统计值数量单位 -- 百分之一 */
   public static final double UNIT_001 = 0.01;
 
-  /** ͳֵλ -- ǧ֮һ */
+  /** 统计值数量单位 -- 千分之一 */
   public static final double UNIT_0001 = 0.001;
 
-  /** ͳֵλ -- ֮һ */
+  /** 统计值数量单位 -- 万分之一 */
   public static final double UNIT_00001 = 0.0001;
 
-  /** ͳֵλ -- ֮һ */
+  /** 统计值数量单位 -- 百万分之一 */
   public static final double UNIT_0000001 = 0.000001;
 
   public static final int AXIS_TOP = 0;
@@ -143,9 +143,9 @@ public interface IGraphProperty{
   public static final int AXIS_COLBORDER = 5;
   public static final int AXIS_PIEJOIN = 6;
 
-  public static final byte CURVE_LAGRANGE = 0; //
-  public static final byte CURVE_AKIMA = 1; //
-  public static final byte CURVE_3SAMPLE = 2; //
+  public static final byte CURVE_LAGRANGE = 0; //拉格朗日曲线
+  public static final byte CURVE_AKIMA = 1; //阿克玛曲线
+  public static final byte CURVE_3SAMPLE = 2; //三次样条曲线
 
   public static byte FLAG_DISCARDOTHER = 0;
 
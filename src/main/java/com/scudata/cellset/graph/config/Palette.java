@@ -9,29 +9,29 @@ import java.awt.*;
 import java.awt.image.*;
 
 /**
- * ɫڻͳͼ
+ * 配色方案，用于画统计图
  */
 public class Palette {
-	public final static byte PATTERN_DEFAULT = 0; // ͼȫ
-	public final static byte PATTERN_H_THIN_LINE = 1; // ͼˮƽϸ
-	public final static byte PATTERN_H_THICK_LINE = 2; // ͼˮƽ
-	public final static byte PATTERN_V_THIN_LINE = 3; // ͼֱϸ
-	public final static byte PATTERN_V_THICK_LINE = 4; // ͼֱ
-	public final static byte PATTERN_THIN_SLASH = 5; // ͼϸб
-	public final static byte PATTERN_THICK_SLASH = 6; // ͼб
-	public final static byte PATTERN_THIN_BACKSLASH = 7; // ͼϸб
-	public final static byte PATTERN_THICK_BACKSLASH = 8; // ͼַб
-	public final static byte PATTERN_THIN_GRID = 9; // ͼϸ
-	public final static byte PATTERN_THICK_GRID = 10; // ͼ
-	public final static byte PATTERN_THIN_BEVEL_GRID = 11; // ͼϸб
-	public final static byte PATTERN_THICK_BEVEL_GRID = 12; // ͼб
-	public final static byte PATTERN_DOT_1 = 13; // ͼϡ
-	public final static byte PATTERN_DOT_2 = 14; // ͼϡ
-	public final static byte PATTERN_DOT_3 = 15; // ͼܵ
-	public final static byte PATTERN_DOT_4 = 16; // ͼܵ
-	public final static byte PATTERN_SQUARE_FLOOR = 17; // ͼذש
-	public final static byte PATTERN_DIAMOND_FLOOR = 18; // ͼεذש
-	public final static byte PATTERN_BRICK_WALL = 19; // ͼשǽ
+	public final static byte PATTERN_DEFAULT = 0; // 填充图案，全填充
+	public final static byte PATTERN_H_THIN_LINE = 1; // 填充图案，水平细线
+	public final static byte PATTERN_H_THICK_LINE = 2; // 填充图案，水平粗线
+	public final static byte PATTERN_V_THIN_LINE = 3; // 填充图案，垂直细线
+	public final static byte PATTERN_V_THICK_LINE = 4; // 填充图案，垂直粗线
+	public final static byte PATTERN_THIN_SLASH = 5; // 填充图案，细斜线
+	public final static byte PATTERN_THICK_SLASH = 6; // 填充图案，粗斜线
+	public final static byte PATTERN_THIN_BACKSLASH = 7; // 填充图案，细反斜线
+	public final static byte PATTERN_THICK_BACKSLASH = 8; // 填充图案，粗反斜线
+	public final static byte PATTERN_THIN_GRID = 9; // 填充图案，细网格
+	public final static byte PATTERN_THICK_GRID = 10; // 填充图案，粗网格
+	public final static byte PATTERN_THIN_BEVEL_GRID = 11; // 填充图案，细斜网格
+	public final static byte PATTERN_THICK_BEVEL_GRID = 12; // 填充图案，粗斜网格
+	public final static byte PATTERN_DOT_1 = 13; // 填充图案，稀疏点
+	public final static byte PATTERN_DOT_2 = 14; // 填充图案，较稀点
+	public final static byte PATTERN_DOT_3 = 15; // 填充图案，较密点
+	public final static byte PATTERN_DOT_4 = 16; // 填充图案，稠密点
+	public final static byte PATTERN_SQUARE_FLOOR = 17; // 填充图案，正方块地板砖
+	public final static byte PATTERN_DIAMOND_FLOOR = 18; // 填充图案，菱形地板砖
+	public final static byte PATTERN_BRICK_WALL = 19; // 填充图案，砖墙
 
 	private int[] colors = null;
 	private byte[] patterns = null;
@@ -41,17 +41,17 @@ public class Palette {
 	private static Map colorMap = readPalettes();
 
 	/**
-	 * ɫȱʡΪ20
+	 * 构造配色方案，缺省容量为20
 	 */
 	public Palette() {
 		this(20);
 	}
 
 	/**
-	 * ɫ
+	 * 构造配色方案
 	 * 
 	 * @param capacity
-	 *            ʼ
+	 *            初始容量
 	 */
 	public Palette(int capacity) {
 		colors = new int[capacity];
@@ -59,9 +59,9 @@ public class Palette {
 	}
 
 	/**
-	 * ȷС
+	 * 确保最小容量
 	 * 
-	 * @paran mincap С
+	 * @paran mincap 最小容量
 	 */
 	public void ensureCapacity(int mincap) {
 		int[] colors = this.colors;
@@ -76,10 +76,10 @@ public class Palette {
 	}
 
 	/**
-	 * λȡɫ
+	 * 按位置取颜色
 	 * 
 	 * @param index
-	 *            λ(0ʼ)
+	 *            位置(从0开始)
 	 */
 	public int getColor(int index) {
 		if (colors.length == 0) {
@@ -127,7 +127,7 @@ public class Palette {
 		Graphics2D tempG=null;
 		Color cb = backColor, cf = Color.black;
 		switch (pattern) {
-		case PATTERN_H_THIN_LINE: // ͼˮƽϸ
+		case PATTERN_H_THIN_LINE: // 填充图案，水平细线
 			rect = new Rectangle(x + 1, y + 1, 6, 6);
 			tempbi = new BufferedImage(6, 6, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -140,7 +140,7 @@ public class Palette {
 			tempG.drawLine(0, 5, 6, 5);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_H_THICK_LINE: // ͼˮƽ
+		case PATTERN_H_THICK_LINE: // 填充图案，水平粗线
 			rect = new Rectangle(x + 1, y + 1, 6, 6);
 			tempbi = new BufferedImage(6, 6, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -152,7 +152,7 @@ public class Palette {
 			tempG.drawLine(0, 5, 6, 5);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_V_THIN_LINE: // ͼֱϸ
+		case PATTERN_V_THIN_LINE: // 填充图案，垂直细线
 			rect = new Rectangle(x + 1, y + 1, 6, 6);
 			tempbi = new BufferedImage(6, 6, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -165,7 +165,7 @@ public class Palette {
 			tempG.drawLine(5, 0, 5, 6);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_V_THICK_LINE: // ͼֱ
+		case PATTERN_V_THICK_LINE: // 填充图案，垂直粗线
 			rect = new Rectangle(x + 1, y + 1, 6, 6);
 			tempbi = new BufferedImage(6, 6, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -177,7 +177,7 @@ public class Palette {
 			tempG.drawLine(5, 0, 5, 6);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_THIN_SLASH: // ͼϸб
+		case PATTERN_THIN_SLASH: // 填充图案，细斜线
 			rect = new Rectangle(x + 1, y + 1, 3, 3);
 			tempbi = new BufferedImage(3, 3, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -188,7 +188,7 @@ public class Palette {
 			tempG.drawLine(0, 0, 3, 3);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_THICK_SLASH: // ͼб
+		case PATTERN_THICK_SLASH: // 填充图案，粗斜线
 			rect = new Rectangle(x + 1, y + 1, 4, 4);
 			tempbi = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -203,7 +203,7 @@ public class Palette {
 			tempG.drawLine(-1, 3, 1, 5);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_THIN_BACKSLASH: // ͼϸб
+		case PATTERN_THIN_BACKSLASH: // 填充图案，细反斜线
 			rect = new Rectangle(x + 1, y + 1, 3, 3);
 			tempbi = new BufferedImage(3, 3, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -214,7 +214,7 @@ public class Palette {
 			tempG.drawLine(2, 0, -1, 3);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_THICK_BACKSLASH: // ͼַб
+		case PATTERN_THICK_BACKSLASH: // 填充图案，粗反斜线
 			rect = new Rectangle(x + 1, y + 1, 4, 4);
 			tempbi = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -229,7 +229,7 @@ public class Palette {
 			tempG.drawLine(3, 5, 5, 3);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_THIN_GRID: // ͼϸ
+		case PATTERN_THIN_GRID: // 填充图案，细网格
 			rect = new Rectangle(x + 1, y + 1, 3, 3);
 			tempbi = new BufferedImage(3, 3, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -242,7 +242,7 @@ public class Palette {
 			tempG.drawLine(0, 1, 3, 1);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_THICK_GRID: // ͼ
+		case PATTERN_THICK_GRID: // 填充图案，粗网格
 			rect = new Rectangle(x + 1, y + 1, 5, 5);
 			tempbi = new BufferedImage(5, 5, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -255,7 +255,7 @@ public class Palette {
 			tempG.drawLine(0, 3, 5, 3);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_THIN_BEVEL_GRID: // ͼϸб
+		case PATTERN_THIN_BEVEL_GRID: // 填充图案，细斜网格
 			rect = new Rectangle(x + 1, y + 1, 5, 5);
 			tempbi = new BufferedImage(5, 5, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -268,7 +268,7 @@ public class Palette {
 			tempG.drawLine(0, 5, 5, 0);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_THICK_BEVEL_GRID: // ͼб
+		case PATTERN_THICK_BEVEL_GRID: // 填充图案，粗斜网格
 			rect = new Rectangle(x + 1, y + 1, 6, 6);
 			tempbi = new BufferedImage(6, 6, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -282,7 +282,7 @@ public class Palette {
 			tempG.drawLine(0, 6, 6, 0);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_DOT_1: // ͼϡ
+		case PATTERN_DOT_1: // 填充图案，稀疏点
 			rect = new Rectangle(x, y, 12, 12);
 			tempbi = new BufferedImage(12, 12, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -296,7 +296,7 @@ public class Palette {
 			tempG.drawLine(8, 9, 8, 9);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_DOT_2: // ͼϡ
+		case PATTERN_DOT_2: // 填充图案，较稀点
 			rect = new Rectangle(x, y, 12, 12);
 			tempbi = new BufferedImage(12, 12, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -310,7 +310,7 @@ public class Palette {
 			tempG.drawLine(10, 7, 10, 7);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_DOT_3: // ͼܵ
+		case PATTERN_DOT_3: // 填充图案，较密点
 			rect = new Rectangle(x, y, 9, 9);
 			tempbi = new BufferedImage(9, 9, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -325,7 +325,7 @@ public class Palette {
 			tempG.drawLine(8, 5, 8, 5);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_DOT_4: // ͼܵ
+		case PATTERN_DOT_4: // 填充图案，稠密点
 			rect = new Rectangle(x, y, 4, 4);
 			tempbi = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -338,7 +338,7 @@ public class Palette {
 			tempG.drawLine(3, 1, 3, 1);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_SQUARE_FLOOR: // ͼذש
+		case PATTERN_SQUARE_FLOOR: // 填充图案，正方块地板砖
 			rect = new Rectangle(0, 0, 8, 8);
 			tempbi = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -349,7 +349,7 @@ public class Palette {
 			tempG.fillRect(4, 4, 4, 4);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_DIAMOND_FLOOR: // ͼεذש
+		case PATTERN_DIAMOND_FLOOR: // 填充图案，菱形地板砖
 			rect = new Rectangle(x + 1, y + 1, 8, 8);
 			tempbi = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -361,7 +361,7 @@ public class Palette {
 			tempG.fillPolygon(xs, ys, 4);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case PATTERN_BRICK_WALL: // ͼשǽ
+		case PATTERN_BRICK_WALL: // 填充图案，砖墙
 			rect = new Rectangle(x + 1, y + 1, 12, 12);
 			tempbi = new BufferedImage(12, 12, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -386,7 +386,7 @@ public class Palette {
 		return paint;
 	}
 
-	// ͼƬ
+	// 设置图片，抗锯齿
 	protected static void setGraphAntiAliasing(Graphics2D g) {
 		g.setStroke(new BasicStroke(1f, BasicStroke.CAP_ROUND,
 				BasicStroke.JOIN_ROUND, 0.1f));
@@ -395,10 +395,10 @@ public class Palette {
 	}
 
 	/**
-	 * ɫ
+	 * 增加颜色
 	 * 
 	 * @param color
-	 *            ɫ
+	 *            颜色
 	 */
 	public void addColor(int color) {
 		ensureCapacity(size + 1);
@@ -406,12 +406,12 @@ public class Palette {
 	}
 
 	/**
-	 * ɫ
+	 * 插入颜色
 	 * 
 	 * @param index
-	 *            λ
+	 *            位置
 	 * @param color
-	 *            ɫ
+	 *            颜色
 	 */
 	public void addColor(int index, int color) {
 		ensureCapacity(size + 1);
@@ -423,14 +423,14 @@ public class Palette {
 	}
 
 	/**
-	 * ȡеɫ
+	 * 取方案中的颜色数
 	 */
 	public int size() {
 		return this.size;
 	}
 
 	/**
-	 * Сɫ
+	 * 将容量缩小到颜色数
 	 */
 	public void trimToSize() {
 		int[] colors = this.colors;
@@ -444,30 +444,30 @@ public class Palette {
 	}
 
 	/**
-	 * еɫ
+	 * 清除方案中的所有颜色
 	 */
 	public void clear() {
 		this.size = 0;
 	}
 
 	/**
-	 * ȡָɫ
+	 * 取得指定的配色方案
 	 * 
-	 * @return ɫ
+	 * @return 配色方案
 	 */
 	public static Palette readColor(String color) {
 		if (color == null || color.trim().length() == 0) {
 			return null;
 		}
 		// if( ExtCellSet.get().getType()==ExtCellSet.LIC_IDE
-		// ){//IDEÿ¶ȡ,ʹ༭Ч
+		// ){//IDE每次重新读取,以使编辑结果立即生效
 		colorMap = readPalettes();
 		// }
 		return (Palette) colorMap.get(color);
 	}
 
 	/**
-	 * ļװسɫӳ String ɫ  Palette ɫ
+	 * 从属性文件装载出调色板映射表 String 调色板名称 －－ Palette 调色板对象
 	 * 
 	 * @param fileProperty
 	 *            Properties
@@ -516,7 +516,7 @@ public class Palette {
 						.getResourceAsStream("/config/color.properties");
 			}
 			if (is == null)
-				return all;// ûɫļ
+				return all;// 没有配色文件
 			config.load(is);
 			return loadPalettes(config);
 		} catch (Exception e) {
@@ -526,16 +526,16 @@ public class Palette {
 	}
 
 	/**
-	 * ȡȱʡɫ
+	 * 取得缺省的配色方案
 	 * 
-	 * @return ɫ
+	 * @return 配色方案
 	 */
 	public static Palette getDefaultPalette() {
 		return defaultPalette;
 	}
 
 	private static Palette getDefaultPalette2() {
-//		עʼsizeҪaddColorĸƥ䣬ɫѭ
+//		注意初始size要跟后续addColor的个数匹配，否则颜色循环不对
 		
 		int size = 7;
 		Palette pl = new Palette( size );
@@ -5,7 +5,7 @@ import java.awt.*;
 import com.scudata.chart.ChartColor;
 
 /**
- * װά
+ * 封装三维立体柱的属性
  * @author Joancy
  *
  */
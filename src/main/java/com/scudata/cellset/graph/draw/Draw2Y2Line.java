@@ -9,25 +9,25 @@ import com.scudata.cellset.graph.*;
 import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 /**
- * ˫ͼʵ
+ * 双轴折线图的实现
  * @author Joancy
  *
  */
 public class Draw2Y2Line extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
-		//ٸĶ룬ͬҪõʵ
+		//少改动代码，同名引出要用到的实例
 		GraphParam gp = db.gp;
 		ExtGraphProperty egp = db.egp;
 		Graphics2D g = db.g;
@@ -86,7 +86,7 @@ public class Draw2Y2Line extends DrawBase {
 		gp.gRect1 = (Rectangle2D.Double)gp.graphRect.clone();
 		gp.gRect2 = (Rectangle2D.Double)gp.graphRect.clone();
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
 		g.setStroke(new BasicStroke(0.00001f));
 
@@ -99,17 +99,17 @@ public class Draw2Y2Line extends DrawBase {
 			y = gp.gRect1.y + gp.gRect1.height - i * dely;
 														
 			gp.GFV_YLABEL.outText(x, y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine = gp.gRect1.y + gp.gRect1.height - i
 						* dely;
 			}
 		}
 
-		// ,˫ͼֻߵ
+		// 画警戒线,双轴图只警戒左边的轴
 		db.drawWarnLine();
 
-		/* X */
+		/* 画X轴 */
 		beginPoint = new Point2D.Double[gp.serNum];
 		lastPoint = new Point2D.Double[gp.serNum];
 		ArrayList cats = egp.categories;
@@ -118,7 +118,7 @@ public class Draw2Y2Line extends DrawBase {
 		for (int i = 0; i < cc; i++) {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double posx = DrawLine.getPosX(gp,i,cc,categorySpan,seriesWidth);
-			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//ǷʾֵTableֿ
+			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//柱顶是否显示值跟画Table分开
 			boolean vis = valvis && !gp.isDrawTable;
 			if (vis) {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
@@ -126,7 +126,7 @@ public class Draw2Y2Line extends DrawBase {
 				db.drawLine(posx, gp.gRect1.y + gp.gRect1.height,
 						    posx, gp.gRect1.y + gp.gRect1.height
 								+ gp.tickLen,c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(posx);
 			}
 
@@ -152,7 +152,7 @@ public class Draw2Y2Line extends DrawBase {
 					endPoint = new Point2D.Double(posx, gp.valueBaseLine - len);
 				}
 
-				// ʾֵʾ
+				// 显示值标示
 				if (gp.dispValueOntop && !egs.isNull() && valvis) {
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					x = endPoint.x;
@@ -168,7 +168,7 @@ public class Draw2Y2Line extends DrawBase {
 				}
 
 				boolean vis2 = (i % (gp.graphXInterval + 1) == 0);
-				if (!egs.isNull() && gp.drawLineDot && vis2) { // ϵС
+				if (!egs.isNull() && gp.drawLineDot && vis2) { // 线条上的小方块
 					Color backColor;
 					double xx, yy, ww, hh;
 					xx = endPoint.x - VALUE_RADIUS;
@@ -200,7 +200,7 @@ public class Draw2Y2Line extends DrawBase {
 			}
 		}
 
-		/*  */
+		/* 画基线 */
 		db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x + gp.gRect1.width,
 				gp.valueBaseLine, egp.getAxisColor(GraphProperty.AXIS_BOTTOM));
 
@@ -210,10 +210,10 @@ public class Draw2Y2Line extends DrawBase {
 	}
 	
 	/**
-	 * ݻͼdb˫ͼ߲֣ͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param seriesCount ˫ͼϵвΪᣬΪϵи
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db，画双轴柱线图的折线部分，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param seriesCount 双轴图的系列拆为左轴和右轴，此为左轴的系列个数
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawY2Line(DrawBase db, int series1Count,
 			StringBuffer htmlLink) {
@@ -258,13 +258,13 @@ public class Draw2Y2Line extends DrawBase {
 		db.gp.gRect1 = (Rectangle2D.Double)db.gp.graphRect.clone();
 		db.gp.gRect2 = (Rectangle2D.Double)db.gp.graphRect.clone();
 
-		double tmpi; // ʱ洢ֵڼظֵ
+		double tmpi; // 临时存储值，用于减少重复计算的值
 		for (int i = 0; i <= db.gp.tickNum2; i++) {
 			tmpi =  (db.gp.gRect1.y + db.gp.gRect1.height - i * dely);
 			db.g.setStroke(new BasicStroke(1f));
 			db.drawLine(db.gp.gRect1.x + db.gp.gRect1.width - db.gp.tickLen,
 					tmpi, db.gp.gRect1.x + db.gp.gRect1.width, tmpi,
-					db.egp.getAxisColor(GraphProperty.AXIS_RIGHT)); // Y2С
+					db.egp.getAxisColor(GraphProperty.AXIS_RIGHT)); // Y2坐标轴的小短线
 
 			Number coory = (Number) db.gp.coorValue2.get(i);
 			String scoory = db.getFormattedValue(coory.doubleValue(),
@@ -273,14 +273,14 @@ public class Draw2Y2Line extends DrawBase {
 			y =  (db.gp.gRect1.y + db.gp.gRect1.height - i * dely);// db.TR.height
 																		// / 2
 			db.gp.GFV_YLABEL.outText(x, y, scoory, GraphFontView.TEXT_ON_RIGHT);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == db.gp.baseValue2 + db.gp.minValue2) {
 				db.gp.valueBaseLine =  (db.gp.gRect1.y
 						+ db.gp.gRect1.height - i * dely);
 			}
 		}
 
-		/* ֵ */
+		/* 画数值线条 */
 		db.g.setStroke(new BasicStroke(0.00001f));
 
 		beginPoint = new Point2D.Double[db.gp.serNames2.size()];
@@ -308,7 +308,7 @@ public class Draw2Y2Line extends DrawBase {
 				}
 
 				boolean valvis = i % (db.gp.graphXInterval + 1) == 0;
-				// ʾֵʾ
+				// 显示值标示
 				if (db.gp.dispValueOntop2 && !egs.isNull() && valvis) {
 					String sval = db.getDispValue2(egc,egs,db.gp.serNum);
 					x = endPoint.x;
@@ -320,7 +320,7 @@ public class Draw2Y2Line extends DrawBase {
 				}
 
 				boolean vis2 = (i % (db.gp.graphXInterval + 1) == 0);
-				if (!egs.isNull() && db.gp.drawLineDot && vis2) { // ϵСȦȦ
+				if (!egs.isNull() && db.gp.drawLineDot && vis2) { // 线条上的小圈圈
 					Color backColor;
 					double xx, yy, ww, hh;
 					xx = endPoint.x - VALUE_RADIUS;
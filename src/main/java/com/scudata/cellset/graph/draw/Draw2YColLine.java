@@ -1,31 +1,31 @@
 package com.scudata.cellset.graph.draw;
 
 /**
- * ˫ͼʵ
+ * 双轴柱线图的实现
  * @author Joancy
  *
  */
 public class Draw2YColLine extends DrawBase {
 	
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
-//		êغʱ˭ǰ棬ҵ˭ڵСêǰ档 xq 20171113
+//		锚点有重合时，谁在前面，浏览器先找到谁。由于点小，将点的锚点放在柱子前面。 xq 2017年11月13日
 		StringBuffer colLink = new StringBuffer();
 		int serNum = DrawCol.drawing(db,colLink);
 		if(serNum<0) return;
 
-//		˫ͼʱԭغ
+//		双轴柱线图时，不能原点重合
 		db.gp.isOverlapOrigin = false;
 		Draw2Y2Line.drawY2Line(db, serNum, htmlLink);
 		db.outPoints();
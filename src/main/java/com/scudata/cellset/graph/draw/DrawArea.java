@@ -10,25 +10,25 @@ import com.scudata.cellset.graph.*;
 import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 /**
- * ͼʵ
+ * 面积图的实现
  * @author Joancy
  *
  */
 public class DrawArea extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
-		//ٸĶ룬ͬҪõʵ
+		//少改动代码，同名引出要用到的实例
 		GraphParam gp = db.gp;
 		ExtGraphProperty egp = db.egp;
 		Graphics2D g = db.g;
@@ -91,10 +91,10 @@ public class DrawArea extends DrawBase {
 		gp.gRect2.width -= coorWidth;
 		gp.gRect2.height -= coorWidth;
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
 
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
 			Number coory = (Number) gp.coorValue.get(i);
@@ -102,21 +102,21 @@ public class DrawArea extends DrawBase {
 			x = gp.gRect1.x - gp.tickLen; // - TR.width
 			y = gp.gRect1.y + gp.gRect1.height - i * dely; 
 			gp.GFV_YLABEL.outText(x, y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine = gp.gRect1.y + gp.gRect1.height - i
 						* dely;
 
 			}
 		}
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 		if (gp.graphTransparent) {
 			g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
 					0.60F));
 		}
 
-		/* X */
+		/* 画X轴 */
 		headPoint = new Point2D.Double[gp.serNum];
 		ArrayList cats = egp.getCategories();
 		int cc = cats.size();
@@ -125,7 +125,7 @@ public class DrawArea extends DrawBase {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double posx = DrawLine.getPosX(gp,i,cc,categorySpan,seriesWidth);
 			
-			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//ǷʾֵTableֿ
+			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//柱顶是否显示值跟画Table分开
 			boolean vis = valvis && !gp.isDrawTable;
 			if (vis) {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
@@ -133,7 +133,7 @@ public class DrawArea extends DrawBase {
 				db.drawLine(posx, gp.gRect1.y + gp.gRect1.height,
 						    posx, gp.gRect1.y + gp.gRect1.height
 								+ gp.tickLen,c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(posx);
 			}
 
@@ -162,7 +162,7 @@ public class DrawArea extends DrawBase {
 					endPoint = new Point2D.Double(posx, gp.valueBaseLine - len);
 				}
 
-				// 
+				// 画带子
 				if (headPoint[j] != null && endPoint != null) {
 					double ptx1[] = { headPoint[j].x, headPoint[j].x, endPoint.x,
 							endPoint.x };
@@ -172,7 +172,7 @@ public class DrawArea extends DrawBase {
 					fillPolygon(db,ptx1, pty1, 4);
 					db.drawPolygon(ptx1, pty1, 4,
 							egp.getAxisColor(GraphProperty.AXIS_COLBORDER));
-					// 
+					// 画区域
 					double ptx2[] = { headPoint[j].x, headPoint[j].x, endPoint.x,
 							endPoint.x };
 					double pty2[] = { headPoint[j].y, gp.valueBaseLine,
@@ -187,7 +187,7 @@ public class DrawArea extends DrawBase {
 					}
 				}
 
-				// 
+				// 输出文字
 				if (gp.dispValueOntop && !egs.isNull() && valvis) {
 					String sval = db.getDispValue(egc,egs,gp.serNum); // getFormattedValue(val);
 					x = endPoint.x;
@@ -218,16 +218,16 @@ public class DrawArea extends DrawBase {
 					db.drawRect(xx, yy, ww, hh,
 							egp.getAxisColor(GraphProperty.AXIS_COLBORDER));
 					db.htmlLink(xx, yy, ww, hh, htmlLink, egc.getNameString(), egs);
-				} // ϵС
+				} // 线条上的小方块
 
 				headPoint[j] = endPoint;
 			}
 		}
 
-		// ֵǩö
+		// 最后输出值标签，文字置顶
 		db.outLabels();
 
-		/* ػһ» */
+		/* 重画一下基线 */
 		db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x + gp.gRect1.width,
 				gp.valueBaseLine, egp.getAxisColor(GraphProperty.AXIS_BOTTOM));
 		db.drawLine(gp.gRect1.x + gp.gRect1.width, gp.valueBaseLine,
@@ -237,7 +237,7 @@ public class DrawArea extends DrawBase {
 	}
 
 	private static void fillPolygon(DrawBase db,double[] x, double[] y, int n) {
-		//ٸĶ룬ͬҪõʵ
+		//少改动代码，同名引出要用到的实例
 		ExtGraphProperty egp = db.egp;
 		Graphics2D g = db.g;
 
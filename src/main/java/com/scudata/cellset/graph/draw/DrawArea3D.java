@@ -10,25 +10,25 @@ import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 
 /**
- * άͼʵ
+ * 三维面积图的实现
  * @author Joancy
  *
  */
 public class DrawArea3D extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
-		//ٸĶ룬ͬҪõʵ
+		//少改动代码，同名引出要用到的实例
 		GraphParam gp = db.gp;
 		ExtGraphProperty egp = db.egp;
 		Graphics2D g = db.g;
@@ -92,7 +92,7 @@ public class DrawArea3D extends DrawBase {
 
 		db.drawGraphRect();
 		Point2D.Double p;
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
 
@@ -101,20 +101,20 @@ public class DrawArea3D extends DrawBase {
 			p = db.getVTickPoint(i*dely);
 			gp.GFV_YLABEL.outText(p.x-gp.tickLen, p.y, scoory);
 
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine = gp.gRect1.y + gp.gRect1.height - i
 						* dely;
 			}
 		}
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 		if (gp.graphTransparent) {
 			g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
 					0.60F));
 		}
 
-		/* X */
+		/* 画X轴 */
 		prePoints1 = new Point2D.Double[gp.serNum];
 		prePoints2 = new Point2D.Double[gp.serNum];
 		ArrayList cats = egp.categories;
@@ -131,7 +131,7 @@ public class DrawArea3D extends DrawBase {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
 				Utils.setStroke(g, c, Consts.LINE_SOLID, 1.0f);
 				db.drawLine(p.x, p.y,p.x, p.y + gp.tickLen,c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(gp.gRect2.x + delx);
 			}
 
@@ -172,7 +172,7 @@ public class DrawArea3D extends DrawBase {
 								egp.getAxisColor(GraphProperty.AXIS_COLBORDER));
 					}
 				}
-				// 
+				// 画带子
 				if (i > 0 && prePoints1[j] != null && pt1 != null) {
 					double ptx1[] = { prePoints1[j].x, prePoints2[j].x, pt2.x,
 							pt1.x };
@@ -189,7 +189,7 @@ public class DrawArea3D extends DrawBase {
 					}
 					if (seriesWidth > 3) {
 						Utils.drawPolygon(g,ptx1, pty1);
-						// 
+						// 画区域
 					}
 					double ptx2[] = { prePoints1[j].x, prePoints1[j].x, pt1.x,
 							pt1.x };
@@ -211,7 +211,7 @@ public class DrawArea3D extends DrawBase {
 					}
 				}
 
-				// 
+				// 输出文字
 				if (gp.dispValueOntop && !egs.isNull() && vis) {
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					x = pt1.x;
@@ -250,7 +250,7 @@ public class DrawArea3D extends DrawBase {
 
 				prePoints1[j] = pt1;
 				prePoints2[j] = pt2;
-				// һֱĴ
+				// 画最后一条垂直的带子
 				if (len >= 0 && i == gp.catNum - 1) {
 					double ptx1[] = { prePoints1[j].x, prePoints1[j].x,
 							prePoints2[j].x, prePoints2[j].x };
@@ -273,10 +273,10 @@ public class DrawArea3D extends DrawBase {
 			}
 		}
 
-		// ֵǩö
+		// 最后输出值标签，文字置顶
 		db.outLabels();
 
-		/* ػһ» */
+		/* 重画一下基线 */
 		db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x + gp.gRect1.width,
 				gp.valueBaseLine, egp.getAxisColor(GraphProperty.AXIS_BOTTOM));
 		db.drawLine(gp.gRect1.x + gp.gRect1.width, gp.valueBaseLine,
@@ -9,18 +9,18 @@ import com.scudata.cellset.graph.*;
 import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 /**
- * ͼ
+ * 画区间柱图
  * @author Joancy
  *
  */
 public class DrawAreaCol extends DrawBase {
 	
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		DrawBase db = this;
-		//ٸĶ룬ͬҪõʵ
+		//少改动代码，同名引出要用到的实例
 		GraphParam gp = db.gp;
 		ExtGraphProperty egp = db.egp;
 		Graphics2D g = db.g;
@@ -75,38 +75,38 @@ public class DrawAreaCol extends DrawBase {
 		dely = (gp.graphRect.height - coorWidth) / gp.tickNum;
 		gp.gRect1 = (Rectangle2D.Double)gp.graphRect.clone();
 		gp.gRect2 = (Rectangle2D.Double)gp.graphRect.clone();
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
-			// 
+			// 画背景虚线
 			db.drawGridLine(dely, i);
-			// дyǩ
+			// 写y轴标签
 			Number coory = (Number) gp.coorValue.get(i);
 			String scoory = db.getFormattedValue(coory.doubleValue());
 			x = gp.gRect1.x - gp.tickLen;
 			y = gp.gRect1.y + gp.gRect1.height - i * dely;
 			gp.GFV_YLABEL.outText(x, y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine = gp.gRect1.y + gp.gRect1.height - i
 						* dely;
 			}
 		}
 
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 
-		/* X */
+		/* 画X轴 */
 		ArrayList cats = egp.categories;
 		Color c;
-//		
+//		区间宽度
 		double areaWidth = gp.graphRect.width/(gp.catNum - 1);
 		seriesWidth = areaWidth;
 		for (int i = 0; i < gp.catNum; i++) {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double delx = i*areaWidth;
-			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//ǷʾֵTableֿ
+			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//柱顶是否显示值跟画Table分开
 			boolean vis = valvis && !gp.isDrawTable;
 
 			if (vis) {
@@ -115,7 +115,7 @@ public class DrawAreaCol extends DrawBase {
 				db.drawLine(gp.gRect1.x + delx, gp.gRect1.y + gp.gRect1.height,
 						gp.gRect1.x + delx, gp.gRect1.y + gp.gRect1.height
 								+ gp.tickLen,c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(gp.gRect1.x + delx);
 			}
 
@@ -124,9 +124,9 @@ public class DrawAreaCol extends DrawBase {
 			y = gp.gRect1.y + gp.gRect1.height + gp.tickLen;
 			gp.GFV_XLABEL.outText(x, y, value, vis);
 			
-//ͼĵһֵ࣬û			
+//区间图的第一个分类，总轴值没有意义			
 			if(i==0)continue;
-//ͼڶϵ
+//区间图不存在多系列
 			for (int j = 0; j < 1; j++) {
 				ExtGraphSery egs = egc.getExtGraphSery(gp.serNames.get(j));
 				if (egs.isNull()) {
@@ -136,7 +136,7 @@ public class DrawAreaCol extends DrawBase {
 				double tmp = val - gp.baseValue;
 				double len = dely * gp.tickNum * (tmp - gp.minValue) / (gp.maxValue * gp.coorScale);
 				double lb = gp.gRect1.x+(i-1)*areaWidth;
-				// 
+				// 画柱子
 				if (len >= 0) {
 					Color tmpc;
 					if (!gp.isMultiSeries) {
@@ -171,7 +171,7 @@ public class DrawAreaCol extends DrawBase {
 							Math.abs(len), htmlLink, egc.getNameString(), egs);
 				}
 
-				// ʾֵ
+				// 在柱顶显示数值
 				if (gp.dispValueOntop && !egs.isNull() && valvis) {
 					sval = db.getDispValue(egc,egs,gp.serNum);
 					x = lb + seriesWidth / 2;
@@ -196,7 +196,7 @@ public class DrawAreaCol extends DrawBase {
 		}
 		db.outLabels();
 
-		/* ػһ» */
+		/* 重画一下基线 */
 		db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x + gp.gRect1.width,
 				gp.valueBaseLine, egp.getAxisColor(GraphProperty.AXIS_BOTTOM));
 		db.drawLine(gp.gRect1.x + gp.gRect1.width, gp.valueBaseLine,
@@ -9,26 +9,26 @@ import com.scudata.cellset.graph.*;
 import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 /**
- * ͼʵ
+ * 条形图的实现
  * @author Joancy
  *
  */
 
 public class DrawBar extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
-		//ٸĶ룬ͬҪõʵ
+		//少改动代码，同名引出要用到的实例
 		GraphParam gp = db.gp;
 		ExtGraphProperty egp = db.egp;
 		Graphics2D g = db.g;
@@ -83,14 +83,14 @@ public class DrawBar extends DrawBase {
 		delx = (gp.graphRect.width - coorWidth) / gp.tickNum;
 		gp.gRect1 = (Rectangle2D.Double)gp.graphRect.clone();
 		gp.gRect2 = (Rectangle2D.Double)gp.graphRect.clone();
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
 
-		/* X */
+		/* 画X轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLineV(delx, i);
 
-			// xǩ
+			// 画x轴标签
 			Number coorx = (Number) gp.coorValue.get(i);
 			String scoorx = db.getFormattedValue(coorx.doubleValue());
 
@@ -98,16 +98,16 @@ public class DrawBar extends DrawBase {
 			y = gp.gRect1.y + gp.gRect1.height + gp.tickLen;
 			gp.GFV_XLABEL.outText(x, y, scoorx);
 
-			// û
+			// 设置基线
 			if (coorx.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine = gp.gRect1.x + i * delx;
 			}
 		}
 
-		// 
+		// 画警戒线
 		db.drawWarnLineH();
 
-		/* X, */
+		/* 画X轴,柱子 */
 		ArrayList cats = egp.categories;
 		int cc = cats.size();
 		Color c,tmpc;
@@ -171,13 +171,13 @@ public class DrawBar extends DrawBase {
 							egc.getNameString(), egs);
 				}
 
-				// ʾֵ
+				// 在柱顶显示数值
 				if (gp.dispValueOntop && !egs.isNull() && vis) {
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					y = lb - (seriesWidth) / 2;
 
 					if (len < 0) {
-						len = len - 3; // 3϶
+						len = len - 3; // 留3个点空隙
 					} else {
 						len = len + 3;
 					}
@@ -10,26 +10,26 @@ import com.scudata.chart.ChartColor;
 import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 /**
- * άͼʵ
+ * 三维条形图的实现
  * @author Joancy
  *
  */
 
 public class DrawBar3DObj extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
-		//ٸĶ룬ͬҪõʵ
+		//少改动代码，同名引出要用到的实例
 		GraphParam gp = db.gp;
 		ExtGraphProperty egp = db.egp;
 		Graphics2D g = db.g;
@@ -100,28 +100,28 @@ public class DrawBar3DObj extends DrawBase {
 		gp.gRect2.width -= coorWidth;
 		gp.gRect2.height -= coorWidth;
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
 		Point2D.Double p;
-		/* X */
+		/* 画X轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLineV(delx, i);
-			// xǩ
+			// 画x轴标签
 			Number coorx = (Number) gp.coorValue.get(i);
 			String scoorx = db.getFormattedValue(coorx.doubleValue());
 			p = db.getHTickPoint(i * delx);
 			gp.GFV_XLABEL.outText(p.x, p.y + gp.tickLen, scoorx);
 
-			// û
+			// 设置基线
 			if (coorx.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.x + i * delx);
 			}
 		}
 
-		// 
+		// 画警戒线
 		db.drawWarnLineH();
 
-		/*  */
+		/* 画柱子 */
 		ArrayList cats = egp.categories;
 		int cc = cats.size();
 		Color c;
@@ -187,13 +187,13 @@ public class DrawBar3DObj extends DrawBase {
 						coorShift);
 				db.htmlLink(xx, yy, ww, hh, htmlLink, egc.getNameString(), egs);
 
-				// ʾֵ
+				// 在柱顶显示数值
 				if (gp.dispValueOntop && !egs.isNull() && vis) {
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					y = lb - seriesWidth / 2;
 
 					if (orginLen < 0) {
-						orginLen = orginLen - 3; // 3϶
+						orginLen = orginLen - 3; // 留3个点空隙
 					} else {
 						orginLen = orginLen + 3;
 					}
@@ -221,7 +221,7 @@ public class DrawBar3DObj extends DrawBase {
 			}
 		}
 		db.outLabels();
-		/* һ» */
+		/* 画一下基线 */
 		if (gp.valueBaseLine != gp.gRect1.x) {
 			db.drawLine(gp.valueBaseLine, gp.gRect1.y, gp.valueBaseLine,
 					gp.gRect1.y + gp.gRect1.height,
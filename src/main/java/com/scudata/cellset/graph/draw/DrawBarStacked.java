@@ -11,26 +11,26 @@ import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 import com.scudata.common.*;
 /**
- * ѻͼʵ
+ * 堆积条形图的实现
  * @author Joancy
  *
  */
 
 public class DrawBarStacked extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
-		//ٸĶ룬ͬҪõʵ
+		//少改动代码，同名引出要用到的实例
 		GraphParam gp = db.gp;
 		ExtGraphProperty egp = db.egp;
 		Graphics2D g = db.g;
@@ -87,29 +87,29 @@ public class DrawBarStacked extends DrawBase {
 		delx = (gp.graphRect.width - coorWidth) / gp.tickNum;
 		gp.gRect1 = (Rectangle2D.Double)gp.graphRect.clone();
 		gp.gRect2 = (Rectangle2D.Double)gp.graphRect.clone();
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
-		/* X */
+		/* 画X轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLineV(delx, i);
 
-			// xǩ
+			// 画x轴标签
 			Number coorx = (Number) gp.coorValue.get(i);
 			String scoorx = db.getFormattedValue(coorx.doubleValue());
 
 			x = gp.gRect1.x + i * delx;
 			y = gp.gRect1.y + gp.gRect1.height + gp.tickLen;
 			gp.GFV_XLABEL.outText(x, y, scoorx);
-			// û
+			// 设置基线
 			if (coorx.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.x + i * delx);
 			}
 		}
 
-		// 
+		// 画警戒线
 		db.drawWarnLineH();
 
-		/* Y */
+		/* 画Y轴 */
 		ArrayList cats = egp.categories;
 		int cc = cats.size();
 		Color c;
@@ -162,7 +162,7 @@ public class DrawBarStacked extends DrawBase {
 
 		}
 
-		/* ػһ» */
+		/* 重画一下基线 */
 		db.outLabels();
 		
 		db.drawLine(gp.valueBaseLine, gp.gRect1.y, gp.valueBaseLine, gp.gRect1.y
@@ -278,7 +278,7 @@ public class DrawBarStacked extends DrawBase {
 			}
 		}
 
-		// ʾֵ
+		// 在柱顶显示数值
 		if (gp.dispStackSumValue && vis) {
 			double val = db.getScaledValue(egc.getPositiveSumSeries(), true);
 			String sval;
@@ -12,26 +12,26 @@ import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 import com.scudata.common.*;
 /**
- * άѻͼʵ
+ * 三维堆积条形图的实现
  * @author Joancy
  *
  */
 
 public class DrawBarStacked3DObj extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db, StringBuffer htmlLink) {
-		// ٸĶ룬ͬҪõʵ
+		// 少改动代码，同名引出要用到的实例
 		GraphParam gp = db.gp;
 		ExtGraphProperty egp = db.egp;
 		Graphics2D g = db.g;
@@ -105,26 +105,26 @@ public class DrawBarStacked3DObj extends DrawBase {
 		gp.gRect2.width -= coorWidth;
 		gp.gRect2.height -= coorWidth;
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
 		Point2D.Double p;
-		/* X */
+		/* 画X轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLineV(delx, i);
 
-			// xǩ
+			// 画x轴标签
 			Number coorx = (Number) gp.coorValue.get(i);
 			String scoorx = db.getFormattedValue(coorx.doubleValue());
 			p = db.getHTickPoint(i * delx);
 			gp.GFV_XLABEL.outText(p.x, p.y + gp.tickLen, scoorx);
-			// û
+			// 设置基线
 			if (coorx.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.x + i * delx);
 			}
 		}
 
-		/* Ȼ */
-//		Ҫ߿ʼԱ֤ұ߸ߣϱ߸±
+		/* 先画负数柱子 */
+//		负数柱子要从最左边开始画，以保证右边覆盖左边；上边覆盖下边
 		ArrayList<Desc3DRect> negativeRects = new ArrayList<Desc3DRect>();
 		ArrayList cats = egp.categories;
 		int cc = cats.size();
@@ -198,7 +198,7 @@ public class DrawBarStacked3DObj extends DrawBase {
 			}
 		}
 
-		// иʱȻƻ͸ƽ棬
+		// 有正有负时，先绘制基线透明平面，
 		db.drawLine(gp.valueBaseLine, gp.gRect1.y, gp.valueBaseLine,
 				gp.gRect1.y + gp.gRect1.height,
 				egp.getAxisColor(GraphProperty.AXIS_BOTTOM));
@@ -213,7 +213,7 @@ public class DrawBarStacked3DObj extends DrawBase {
 			Shape poly = Utils.newPolygon2D(xx, yy);
 
 			Color ccc = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
-			if (ccc == null) {// ױΪ͸ɫʱʹȱʡ
+			if (ccc == null) {// 如果底边为透明色时，使用缺省灰
 				ccc = Color.lightGray;
 			}
 			float trans = 1.0f;
@@ -224,10 +224,10 @@ public class DrawBarStacked3DObj extends DrawBase {
 			Utils.fill(g, poly, trans,ccc);
 		}
 
-		// 
+		// 画警戒线
 		db.drawWarnLineH();
 
-		/*  */
+		/* 画正数柱子 */
 		for (int i = cc - 1; i >= 0; i--) {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double dely = (i + 1) * categorySpan + i * seriesWidth * serNum
@@ -280,7 +280,7 @@ public class DrawBarStacked3DObj extends DrawBase {
 		}
 
 		db.outLabels();
-		/* һ» */
+		/* 画一下基线 */
 		if (gp.valueBaseLine != gp.gRect1.x) {
 			db.drawLine(gp.valueBaseLine, gp.gRect1.y, gp.valueBaseLine,
 					gp.gRect1.y + gp.gRect1.height,
@@ -350,7 +350,7 @@ public class DrawBarStacked3DObj extends DrawBase {
 			}
 
 			if (len > 0) {
-				// ϷѴ
+				// 上方已处理
 			} else {
 				String sval = null;
 				if (percentFmt != null) {
@@ -385,7 +385,7 @@ public class DrawBarStacked3DObj extends DrawBase {
 					AlphaComposite.SRC_OVER, 1.00F));
 		}
 
-		// ʾֵ
+		// 在柱顶显示数值
 		if (gp.dispValueOntop && vis) {
 			double val = db.getScaledValue(egc.getPositiveSumSeries(),
 					true);
@@ -450,9 +450,9 @@ public class DrawBarStacked3DObj extends DrawBase {
 					egp.isDrawShade(), egp.isRaisedBorder(),
 					db.getTransparent(), chartColor, true,
 					coorShift);
-//			˴ĵڶisVertical ڲ÷ֵҲͼǷֱtrueΪۻһʱ
-//			Ϊ洦ݶɫ棬ÿ xq 201782
-//			ƴĻDrawColStatcked3DObj
+//			此处的倒数第二个参数isVertical， 现在采用反值，也就是条形图的是否垂直给true，是因为柱子累积在一起时
+//			为了让正面处于连续的梯度色，否则正面会呈现亮暗交替，不好看； xq 2017年8月2日
+//			类似处理的还有DrawColStatcked3DObj
 			
 			db.htmlLink(xx, yy, ww, hh, htmlLink, egc.getNameString(), egs);
 
@@ -503,7 +503,7 @@ public class DrawBarStacked3DObj extends DrawBase {
 					AlphaComposite.SRC_OVER, 1.00F));
 		}
 
-		// ʾֵ
+		// 在柱顶显示数值
 		if (gp.dispStackSumValue && vis) {
 			double val = db
 					.getScaledValue(egc.getPositiveSumSeries(), true);
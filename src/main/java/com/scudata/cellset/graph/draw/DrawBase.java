@@ -23,8 +23,8 @@ import com.scudata.ide.common.*;
 import com.scudata.ide.common.control.*;
 import com.scudata.util.*;
 /**
- * лͼĳ
- * װͼεĹԼһЩͼ
+ * 所有绘图类的抽象基础类
+ * 封装了图形的公共属性以及一些公共画图函数
  * @author Joancy
  *
  */
@@ -33,15 +33,15 @@ public abstract class DrawBase implements IGraph {
 	public Graphics2D g;
 	public GraphParam gp;
 	public Palette palette;
-	public int VALUE_RADIUS = 2; // ֱͼֵʶСλԲȦİ뾶
+	public int VALUE_RADIUS = 2; // 直线图画值标识的小矩形或圆圈的半径
 	public int SHADE_SPAN = 4;
-	public Rectangle TR = new Rectangle(); // Text Rectangle ıʱľοߣx,y
+	public Rectangle TR = new Rectangle(); // Text Rectangle 文本输出时的矩形宽高，x,y无意义
 	public ArrayList<ValueLabel> labelList = new ArrayList<ValueLabel>();
 	public ArrayList<ValuePoint> pointList = new ArrayList<ValuePoint>();
 
 	private boolean disableLink = true;
-	private transient Point2D.Double vShift, hShift;// Ϊ͸3Dƽ̨ʱΪλòͬx,yƫǼȥƫƣǼƫ
-	// ϶ԺҪȱռ䣬gp.gRect2ƶ
+	private transient Point2D.Double vShift, hShift;// 纵轴因为透明或者3D平台时，因为位置不同的x,y向偏移量，纵向总是减去偏移；横向总是加上偏移
+	// 标题加上对齐属性后，需要先保留出空间，最后根据gp.gRect2来绘制对齐
 	private ValueLabel vlTitle, vlYTitle1, vlYTitle2, vlXTitle;
 
 	protected boolean isSVG() {
@@ -60,8 +60,8 @@ public abstract class DrawBase implements IGraph {
 		return new Point2D.Double(x, y);
 	}
 /**
- * ýֹ
- * @param b ֹ
+ * 设置禁止超链接
+ * @param b 禁止超链接
  */
 	public void setDisableLink(boolean b) {
 		disableLink = b;
@@ -72,8 +72,8 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ͼеıռл
-	 * ֹı
+	 * 绘图中的文本收集到缓冲后，最后集中绘制
+	 * 防止文本被覆盖
 	 */
 	public void outLabels() {
 		double x, y;
@@ -104,7 +104,7 @@ public abstract class DrawBase implements IGraph {
 			text = vlTitle.text;
 			direction = (byte) buf[1];
 			gp.GFV_TITLE.outText(x, y, text, direction);
-			vlTitle = null;//ҪͬԭΪ˫ͼʱ飬λƫƣɼӴ֡
+			vlTitle = null;//这里要清掉，下同。原因为：双轴图时，绘制两遍，位置稍有偏移，造成加粗。
 		}
 
 		if (vlXTitle != null) {
@@ -179,13 +179,13 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ıݵҲڻƹڻ
-	 * ø÷лݵ
+	 * 类似于文本，数据点也在绘制过程中置于缓存
+	 * 用该方法集中绘制数据点
 	 */
 	public void outPoints() {
 		int bs = Consts.LINE_SOLID;
 		float bw = 1;
-		boolean drawShade = false;// ͼʱٻӰƵӰסȻֱ
+		boolean drawShade = false;// 折线图绘制时，不再画点的阴影，否则后绘制的阴影会盖住先画的直线
 		float transparent = getTransparent();
 
 		for (int i = 0; i < pointList.size(); i++) {
@@ -215,26 +215,26 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ûͼͼ豸
-	 * @param g ͼ豸
+	 * 设置绘图的图形设备
+	 * @param g 图形设备
 	 */
 	public void setGraphics2D(Graphics2D g) {
 		this.g = g;
 	}
 
 	/**
-	 * ͳͼĴС
-	 * @param w ͼο
-	 * @param h ͼθ߶
+	 * 设置统计图的大小
+	 * @param w 图形宽度
+	 * @param h 图形高度
 	 */
 	public void setGraphWH(int w, int h) { 
 		gp.setGraphWH(w, h);
 	}
 
 	/**
-	 * չͼԵãͼĺʵ
-	 * @param egp չͼ
-	 * @return ͼʵ
+	 * 根据扩展图形属性的设置，产生绘图的后代实例
+	 * @param egp 扩展图形属性
+	 * @return 后代绘图实例
 	 */
 	public static Object getInstance(ExtGraphProperty egp) {
 		DrawBase graph = null;
@@ -313,13 +313,13 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ǷʹýɫɫcתΪɫ
-	 * @param c ɫ
-	 * @return ɫChartColor
+	 * 根据属性是否使用渐变色，将颜色c转换为填充颜色类
+	 * @param c 颜色
+	 * @return 填充颜色ChartColor对象
 	 */
 	public ChartColor getChartColor(Color c) {
 		ChartColor cc = new ChartColor(c);
-		if (egp.isGradientColor()) {// ǽɫΪChartColorģʽ
+		if (egp.isGradientColor()) {// 如果是渐变色，设置为ChartColor的炫模式
 			cc.setColor1(c);
 			cc.setColor2(c);
 			cc.setGradient(true);
@@ -330,16 +330,16 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ȡɫеĵindexɫֵ
-	 * @param index 
-	 * @return ɫֵ
+	 * 获取调色板中的第index序号颜色值
+	 * @param index 序号
+	 * @return 颜色值
 	 */
 	public Color getColor(int index) {
 		return new Color(palette.getColor(index));
 	}
 
 	/**
-	 * ȡǰͼε͸
+	 * 取当前图形的透明度
 	 * @return
 	 */
 	public float getTransparent() {
@@ -349,15 +349,15 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ͳͼgpԽлͼչͼegpתΪ
-	 * ͼ
-	 * @param egp չͼ
+	 * 统计图根据gp属性进行绘图，将扩展图形属性egp转换为
+	 * 绘图的属性
+	 * @param egp 扩展图形属性
 	 */
 	public void transProperty(ExtGraphProperty egp) {
 		this.egp = egp;
 		this.gp = new GraphParam();
 		palette = egp.getPlatte();
-		gp.catNames = egp.getCategoryNames(); // תʱҪõcatNames,ת
+		gp.catNames = egp.getCategoryNames(); // 转换字体的时候要用到catNames,得先转换
 		gp.serNames = egp.getSeriesNames(egp.categories);
 		gp.catNum = gp.catNames.size();
 		gp.serNum = gp.serNames.size();
@@ -389,7 +389,7 @@ public abstract class DrawBase implements IGraph {
 		gf = fonts.getYLabelFont();
 		gp.GFV_YLABEL = getGraphFontView(gf, text, GraphFontView.FONT_YLABEL);
 
-		gp.imageFormat = egp.getImageFormat(); // ±ɫ֮ǰҪøʽ,͸ɫͼθʽйϵ
+		gp.imageFormat = egp.getImageFormat(); // 在设置如下背景色之前要求先设置格式属性,透明色跟图形格式有关系
 		gp.setBackColor(egp.getGraphBackColor());
 		gp.dataMarkFormat = egp.getDisplayDataFormat1();
 		gp.dataMarkFormat2 = egp.getDisplayDataFormat2();
@@ -504,9 +504,9 @@ public abstract class DrawBase implements IGraph {
 	}
 	
 	/**
-	 * ȡǰͼǷϵлƣ˫ͼΪϵкϵУ
-	 * ˫ͼʱΪϵͼ
-	 * @return Ƕϵͼηtrue򷵻false
+	 * 获取当前图形是否多个系列绘制，由于双轴图分为左轴系列和右轴系列，
+	 * 双轴图时为多系列图形
+	 * @return 是多系列图形返回true，否则返回false
 	 */
 	public boolean isMultiSeries(){
 		if(egp.is2YGraph()){
@@ -520,10 +520,10 @@ public abstract class DrawBase implements IGraph {
 		return (type == GraphTypes.GT_PIE || type == GraphTypes.GT_PIE3DOBJ || !isMultiSeries());
 	}
 
-	// ǷԲͼ
+	// 是否画圆形图例
 	protected boolean isCircleLegend() {
 		byte type = egp.getType();
-		// ˫ͼʱͼȻзԲ
+		// 双轴两线图形时，图例仍然得有方，有圆，区分左右轴
 		boolean isCircle = ( type == GraphTypes.GT_LINE || type == GraphTypes.GT_SCATTER || type == GraphTypes.GT_DOT3D);
 		return isCircle;
 	}
@@ -545,7 +545,7 @@ public abstract class DrawBase implements IGraph {
 		int xx, yy, ww, hh = fontHeight;
 
 		if (isCircleLegend()
-				|| (egp.is2YGraph() && gp.isMultiSeries && seriesNo >= series1Count)) { // ڶϵ
+				|| (egp.is2YGraph() && gp.isMultiSeries && seriesNo >= series1Count)) { // 第二轴的系列
 			g.setStroke(new BasicStroke(0.00001f));
 			yy = y - nFontHeight;
 			setPaint(x, yy, fontHeight, fontHeight, seriesNo, verticalPillar);
@@ -569,21 +569,21 @@ public abstract class DrawBase implements IGraph {
 
 		}
 
-		// Ӵ
+		// 超连接处理
 		String coordx = x + "," + (y - nFontHeight) + ",";
 		x += fontHeight + egp.getLegendHorizonGap();
 		if (isGongZi) {
 			stmp = stmp.substring(stmp.indexOf(".") + 1);
 		}
-		if (fontHeight != nFontHeight) { // ֻҪ,ҪضλY
+		if (fontHeight != nFontHeight) { // 只要有折行,则需要重定位Y
 			y = y - nFontHeight + fontHeight;
 		}
 
-		// λλ:ͼΪҲ,,ĵŲͼӸ߶
+		// 方位定位:图例定义为右侧文字,纵向居中,中心点往上挪半个图例格子高度
 		y -= hh / 2;
 
-		int wrapWidth = textWidth + 2; //㷨ҪȥǱߵĵ㣬ⲻȥ
-		// 㷨wrapInchingWidth,ﲻüò
+		int wrapWidth = textWidth + 2; //折行算法要去掉两个可能是边线的点，我这不用去，多给两点
+		// 折行算法减掉了wrapInchingWidth,这里不用减，得补回来
 
 		ArrayList al = ControlUtilsBase.wrapString(stmp,
 				g.getFontMetrics(gp.GFV_LEGEND.font), wrapWidth);
@@ -621,8 +621,8 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ͼεͼͼĳд볬htmlBuffer
-	 * @param htmlBuffer ӻ
+	 * 绘制图形的图例，并将图例产生的超链接写入超链缓存htmlBuffer
+	 * @param htmlBuffer 超链接缓存对象
 	 */
 	public void drawLegend(StringBuffer htmlBuffer) {
 		if (egp.getLegendLocation() == IGraphProperty.LEGEND_NONE) {
@@ -642,13 +642,13 @@ public abstract class DrawBase implements IGraph {
 		boolean isGongZi = egp.getType() == GraphTypes.GT_GONGZI;
 
 		boolean verticalPillar = !egp.isBarGraph(this);
-		/* ҳͼ */
+		/* 找出最大图例宽度 */
 		if (isLegendOnCategory()) {
 			int cc = gp.catNames.size();
 			for (int i = 0; i < cc; i++) {
 				Object o = gp.catNames.get(i);
 				String tmp = Variant.toString(o);
-				if (!StringUtils.isValidString(tmp)) { // ʿһմʱȻҪ֤һַĿ
+				if (!StringUtils.isValidString(tmp)) { // 有无聊人士仅给一空串，此时仍然要保证一个字符的宽高
 					tmp = "A";
 				}
 				TR = getLegendTextRect(tmp);
@@ -680,7 +680,7 @@ public abstract class DrawBase implements IGraph {
 			if (egp.is2YGraph() || egp.isNormalStacked()) {
 				if(gp.serNames2!=null){
 					int ss2 = gp.serNames2.size();
-					for (int i = 0; i < ss2; i++) { // 2ĵ2ϵ
+					for (int i = 0; i < ss2; i++) { // 2轴的第2组系列
 						Object o = gp.serNames2.get(i);
 						TR = getLegendTextRect(Variant.toString(o));
 						intTmp = TR.width;
@@ -693,13 +693,13 @@ public abstract class DrawBase implements IGraph {
 			}
 		}
 
-		/* ͼ */
+		/* 图例个数 */
 		int size = 0;
 		if (isLegendOnCategory()) {
 			size = gp.catNames.size();
 		} else {
 			if (egp.is2YGraph() || (egp.isNormalStacked() && gp.serNames2!=null)) {
-				size = gp.serNames.size() + gp.serNames2.size(); // ˵ڶϵ
+				size = gp.serNames.size() + gp.serNames2.size(); // 加上了第二组系列
 			} else {
 				size = gp.serNames.size();
 			}
@@ -708,7 +708,7 @@ public abstract class DrawBase implements IGraph {
 		int series1Count = gp.serNames.size();
 		int seriesNo;
 
-		/* ͼλϷ· */
+		/* 如果图例位于上方或下方 */
 		nFontHeight = maxHeight;
 		fontHeight = gp.GFV_LEGEND.getTextSize("ABC").height;
 
@@ -742,7 +742,7 @@ public abstract class DrawBase implements IGraph {
 			borderheight = nFontHeight * row + (row + 1) * egp.getLegendVerticalGap();
 
 			drawRect(borderx, bordery, borderwidth, borderheight,
-					egp.getAxisColor(IGraphProperty.AXIS_LEGEND)); // ϵΧο
+					egp.getAxisColor(IGraphProperty.AXIS_LEGEND)); // 系列外围矩形框
 
 			gp.legendBoxWidth = borderwidth;
 			gp.legendBoxHeight = borderheight;
@@ -769,7 +769,7 @@ public abstract class DrawBase implements IGraph {
 					if (isLegendOnCategory()) {
 						o = gp.catNames.get(seriesNo);
 					} else {
-						if (seriesNo >= series1Count) { // ڶϵ
+						if (seriesNo >= series1Count) { // 第二轴的系列
 							o = gp.serNames2.get(seriesNo - series1Count);
 						} else {
 							o = gp.serNames.get(seriesNo);
@@ -790,7 +790,7 @@ public abstract class DrawBase implements IGraph {
 			} else {
 				gp.bottomInset += (row + 1) * egp.getLegendVerticalGap() + row * nFontHeight + egp.getLegendVerticalGap();
 			}
-		} else { /* ͼλ߻ұ */
+		} else { /* 如果图例位于左边或右边 */
 			legendWidth = fontHeight + 3 * egp.getLegendHorizonGap() + maxWidth;
 			legendHeight = nFontHeight + 2 * egp.getLegendVerticalGap();
 			totalHeight = gp.graphHeight - gp.topMargin - gp.bottomMargin;
@@ -851,7 +851,7 @@ public abstract class DrawBase implements IGraph {
 					if (isLegendOnCategory()) {
 						o = gp.catNames.get(seriesNo);
 					} else {
-						if (seriesNo >= series1Count) { // ڶϵ
+						if (seriesNo >= series1Count) { // 第二轴系列
 							o = gp.serNames2.get(seriesNo - series1Count);
 						} else {
 							o = gp.serNames.get(seriesNo);
@@ -875,13 +875,13 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָõǰģʽ
-	 * @param x x
-	 * @param y y
-	 * @param w 
-	 * @param h ߶
-	 * @param c ɫ
-	 * @param verticalPillar ǷԲ
+	 * 按照指定参数设置当前填充模式
+	 * @param x 横坐标x
+	 * @param y 纵坐标y
+	 * @param w 填充宽度
+	 * @param h 填充高度
+	 * @param c 填充颜色
+	 * @param verticalPillar 是否竖向圆柱
 	 */
 	public void setPaint(double x, double y, double w, double h, Color c,
 			boolean verticalPillar) {
@@ -889,13 +889,13 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָõǰģʽ
-	 * @param x x
-	 * @param y y
-	 * @param w 
-	 * @param h ߶
-	 * @param pIndex ɫ
-	 * @param verticalPillar ǷԲ
+	 * 按照指定参数设置当前填充模式
+	 * @param x 横坐标x
+	 * @param y 纵坐标y
+	 * @param w 填充宽度
+	 * @param h 填充高度
+	 * @param pIndex 颜色序号
+	 * @param verticalPillar 是否竖向圆柱
 	 */
 	public void setPaint(double x, double y, double w, double h, int pIndex,
 			boolean verticalPillar) {
@@ -912,10 +912,10 @@ public abstract class DrawBase implements IGraph {
 			Color dd = c;
 
 			int cValue = c.getRGB();
-			if (cValue < -13410000) { // ɫ
+			if (cValue < -13410000) { // 黑色
 				cc = Color.lightGray;
 				dd = c;
-			} else if (cValue < -8355712) { // ɫ
+			} else if (cValue < -8355712) { // 如果是深色背景
 				cc = c.brighter();
 				dd = cc.darker().darker();
 			} else {
@@ -923,7 +923,7 @@ public abstract class DrawBase implements IGraph {
 				dd = cc.darker().darker().darker();
 			}
 
-			if (verticalPillar) { // 
+			if (verticalPillar) { // 纵向柱子
 				paint = new GradientPaint((float)x, (float)y, cc, (float)(x + w), (float)y, dd);
 			} else {
 				paint = new GradientPaint((float)x, (float)y, cc, (float)x, (float)(y + h), dd);
@@ -957,7 +957,7 @@ public abstract class DrawBase implements IGraph {
 			return null;
 		}
 		if (StringUtils.isValidString(link)) {
-			// ĳ滻㣬ͬʱɰcategory
+			// 改成先替换后计算，同时吧把category当作参数
 			if (StringUtils.isValidString(legendValue)) {
 				link = replaceAll(link, "@legend", legendValue.toString());
 			}
@@ -1013,16 +1013,16 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָλû
-	 * @param x x
-	 * @param y y
-	 * @param w ӿ
-	 * @param h Ӹ߶
-	 * @param z ӽ
+	 * 在指定位置画立方体的轮廓线
+	 * @param x 横坐标x
+	 * @param y 纵坐标y
+	 * @param w 柱子宽度
+	 * @param h 柱子高度
+	 * @param z 柱子进深
 	 */
 	public void drawRectCubeLine(int x, int y, int w, int h, int z) {
 		g.setColor(gp.coorColor);
-		int hx, hy; // 忴Ǹ
+		int hx, hy; // 立方体看不到的那个点的坐标
 		hx = x + z;
 		hy = y + h - z;
 
@@ -1033,12 +1033,12 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָλôһΣcΪnullʱ͸
-	 * @param x x
-	 * @param y y
-	 * @param w 
-	 * @param h ߶
-	 * @param c ߿ɫ
+	 * 指定位置处画一个矩形，c为null时当透明处理，不绘制
+	 * @param x 横坐标x
+	 * @param y 纵坐标y
+	 * @param w 宽度
+	 * @param h 高度
+	 * @param c 边框颜色
 	 */
 	public void drawRect(double x, double y, double w, double h, Color c) {
 		if (c == null) {
@@ -1049,13 +1049,13 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ֱָ
-	 * øú֮ǰȵ Utils.setStroke(); ȷǰȷ䷽
-	 * @param x1 1
-	 * @param y1 1
-	 * @param x2 2
-	 * @param y2 2
-	 * @param c ɫnullʱ
+	 * 在指定的两个点间绘制直线
+	 * 调用该函数之前必须先调用 Utils.setStroke(); 确保当前的线有正确的填充方案
+	 * @param x1 点1横坐标
+	 * @param y1 点1纵坐标
+	 * @param x2 点2横坐标
+	 * @param y2 点2纵坐标
+	 * @param c 颜色，null时不绘制
 	 */
 	public void drawLine(double x1, double y1, double x2, double y2, Color c) {
 		if (c == null) {
@@ -1066,14 +1066,14 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָһλ
-	 * @param x 
-	 * @param y 
-	 * @param w 
-	 * @param h ߶
-	 * @param startAngle ʼǶ
-	 * @param arcAngle ĽǶȳ
-	 * @param c ɫnullʱ
+	 * 在指定的两个点间绘制一段弧
+	 * @param x 横坐标
+	 * @param y 纵坐标
+	 * @param w 宽度
+	 * @param h 高度
+	 * @param startAngle 起始角度
+	 * @param arcAngle 弧的角度长
+	 * @param c 颜色，null时不绘制
 	 */
 	public void drawArc(int x, int y, int w, int h, int startAngle,
 			int arcAngle, Color c) {
@@ -1085,9 +1085,9 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָɫ״s
-	 * @param s ״
-	 * @param c ɫnullʱ
+	 * 按照指定颜色绘制形状s
+	 * @param s 形状对象
+	 * @param c 颜色，null时不绘制
 	 */
 	public void drawShape(Shape s, Color c) {
 		if (c == null) {
@@ -1098,11 +1098,11 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָλûƶ
-	 * @param x xֵ
-	 * @param y yֵ
-	 * @param n ĸ
-	 * @param c ɫnullʱ
+	 * 按照指定位置绘制多边形
+	 * @param x 点的x坐标数值
+	 * @param y 点的y坐标数值
+	 * @param n 点的个数
+	 * @param c 颜色，null时不绘制
 	 */
 	public void drawPolygon(double[] x, double[] y, int n, Color c) {
 		if (c == null) {
@@ -1123,12 +1123,12 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָλûԲ
-	 * @param x x
-	 * @param y y
-	 * @param w 
-	 * @param h ߶
-	 * @param c ɫnullʱ
+	 * 按照指定位置绘制椭圆
+	 * @param x x坐标
+	 * @param y y坐标
+	 * @param w 宽度
+	 * @param h 高度
+	 * @param c 颜色，null时不绘制
 	 */
 	public void drawOval(int x, int y, int w, int h, Color c) {
 		if (c == null) {
@@ -1139,11 +1139,11 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ͼָλԲ
-	 * @param x x
-	 * @param y y
-	 * @param w 
-	 * @param h ߶
+	 * 根据图形属性配置在指定位置填充椭圆
+	 * @param x x坐标
+	 * @param y y坐标
+	 * @param w 宽度
+	 * @param h 高度
 	 */
 	public void fillOval(int x, int y, int w, int h) {
 		if (egp.isDrawShade()) {
@@ -1158,11 +1158,11 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ͼָλ
-	 * @param x x
-	 * @param y y
-	 * @param w 
-	 * @param h ߶
+	 * 根据图形属性配置在指定位置填充矩形
+	 * @param x x坐标
+	 * @param y y坐标
+	 * @param w 宽度
+	 * @param h 高度
 	 */
 	public void fillRect(double x, double y, double w, double h) {
 		Color bc = null;
@@ -1175,17 +1175,17 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ĵ cx,cyc1c2ɫ״ɢݶ״s Ŀǰ֧cxcy״sڵ
+	 * 从中心点 cx,cy按c1到c2的颜色环状发散梯度填充形状s 目前仅支持cx，cy在形状s内的填充
 	 * @param s
-	 *            Shape ״
+	 *            Shape 形状对象
 	 * @param c1
-	 *            Color ɫ1
+	 *            Color 颜色1
 	 * @param c2
-	 *            Color ɫ2
+	 *            Color 颜色2
 	 * @param cx
-	 *            int ĵx
+	 *            int 中心点x
 	 * @param cy 
-	 *            int ĵy
+	 *            int 中心点y
 	 */
 	public void fillDotGradientShape(Shape s, Color c1, Color c2, double cx, double cy) {
 		Rectangle sBounds = s.getBounds();
@@ -1218,26 +1218,26 @@ public abstract class DrawBase implements IGraph {
 
 
 	/**
-	 * ָһ
+	 * 根据指定参数绘制一个长方体
 	 * 
 	 * @param x
-	 *            int x y hͻó
+	 *            int 正面矩形x 正面矩形y 根据h的正负，和基线来计算得出
 	 * @param w
-	 *            int w
+	 *            int 正面矩形w
 	 * @param h
-	 *            int h
+	 *            int 正面矩形h
 	 * @param z
-	 *            int z
+	 *            int 立方的z深度
 	 * @param dz
-	 *            int zλ
+	 *            int 立方的z向位移
 	 * @param colorIndex
-	 *            int ɫ
+	 *            int 颜色序号
 	 * @param sb
-	 *            StringBuffer ɳӵĻ
+	 *            StringBuffer 生成超连接的缓冲
 	 * @param cat
-	 *            Object ǰֵ
+	 *            Object 当前分类值
 	 * @param egs
-	 *            ExtGraphSery ϵ
+	 *            ExtGraphSery 系列
 	 */
 	public void drawRectCube(double x, double w, double h, double z, double dz,
 			int colorIndex, StringBuffer sb, Object cat, ExtGraphSery egs) {
@@ -1265,21 +1265,21 @@ public abstract class DrawBase implements IGraph {
 
 	}
 
-	protected Rectangle2D.Double rightTop, rightBottom, leftTop, leftBottom; // ӦѾռ˵λ
+	protected Rectangle2D.Double rightTop, rightBottom, leftTop, leftBottom; // 四周相应已经占用了的位置
 
 	/**
-	 * ԲֵݽǶȵTextꡣ״ͼԼͼõ
+	 * 画圆形外的数值，根据角度调整Text的坐标。雷达图以及饼图用到
 	 * 
 	 * @param gfv
-	 *            GraphFontView 嶨ͼ
+	 *            GraphFontView 字体定义视图
 	 * @param text
-	 *            String ıֵ
+	 *            String 文本值
 	 * @param angle
-	 *            double ǰֵԲϵĽǶλ
+	 *            double 当前数值所处圆上的角度位置
 	 * @param x
-	 *            int ıx
+	 *            int 文本的x
 	 * @param y
-	 *            int ıy
+	 *            int 文本的y
 	 */
 	public void drawOutCircleText(GraphFontView gfv, String text, double angle,
 			double x, double y) {
@@ -1296,18 +1296,18 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ԲڵֵݽǶȵTextꡣ״ͼԼͼõ
+	 * 画圆形内的数值，根据角度调整Text的坐标。雷达图以及饼图用到
 	 * 
 	 * @param gfv
-	 *            GraphFontView 嶨ͼ
+	 *            GraphFontView 字体定义视图
 	 * @param text
-	 *            String ıֵ
+	 *            String 文本值
 	 * @param angle
-	 *            double ǰֵԲϵĽǶλ
+	 *            double 当前数值所处圆上的角度位置
 	 * @param x
-	 *            int ıx
+	 *            int 文本的x
 	 * @param y
-	 *            int ıy
+	 *            int 文本的y
 	 */
 	public void drawInnerCircleText(GraphFontView gfv, String text,
 			double angle, double x, double y) {
@@ -1378,7 +1378,7 @@ public abstract class DrawBase implements IGraph {
 		boolean isTop = !(tmpAngle > 180 && tmpAngle < 360);
 		if (drawExtend) {
 			double x1 = x, y1 = y;
-			if (isLeft && isTop) { //  -  //
+			if (isLeft && isTop) { // 左上 - 左边 //
 				if (leftTop == null) {
 					leftTop = new Rectangle2D.Double(gp.gRect2.x, gp.gRect2.y, 0, 0);
 				}
@@ -1389,7 +1389,7 @@ public abstract class DrawBase implements IGraph {
 				Utils.drawLine(g,x1, y1, x1, y);
 				Utils.drawLine(g,x1, y, x, y);
 				y += h / 2;
-			} else if (isLeft && !isTop) { //   ±
+			} else if (isLeft && !isTop) { // 左下 － 下边
 				if (leftBottom == null) {
 					leftBottom = new Rectangle2D.Double(gp.gRect2.x, gp.gRect2.y
 							+ gp.gRect2.height, 0, 0);
@@ -1400,7 +1400,7 @@ public abstract class DrawBase implements IGraph {
 				Utils.drawLine(g,x1, y1, x1, y);
 				Utils.drawLine(g,x1, y, x, y);
 				w /= 2;
-			} else if (!isLeft && isTop) { //   ϱ
+			} else if (!isLeft && isTop) { // 右上 － 上边
 				if (rightTop == null) {
 					rightTop = new Rectangle2D.Double(gp.gRect2.x + gp.gRect2.width,
 							gp.gRect2.y, 0, 0);
@@ -1413,7 +1413,7 @@ public abstract class DrawBase implements IGraph {
 				Utils.drawLine(g,x1, y1, x1, y);
 				Utils.drawLine(g,x1, y, x, y);
 				x -= w / 2;
-			} else { //   ұ
+			} else { // 右下 － 右边
 				if (rightBottom == null) {
 					rightBottom = new Rectangle2D.Double(gp.gRect2.x + gp.gRect2.width,
 							gp.gRect2.y + gp.gRect2.height, 0, 0);
@@ -1432,7 +1432,7 @@ public abstract class DrawBase implements IGraph {
 		} else {
 			byte direction = angleToPosition(gfv, angle);
 
-			if (!(this instanceof DrawRadar)) {// ״ͼʱʹӳ
+			if (!(this instanceof DrawRadar)) {// 雷达图时，不使用延长线
 				int shiftX = 10;
 				double x1 = x, y1 = y, x2 = x, y2 = y;
 				if (direction == GraphFontView.TEXT_ON_LEFT) {
@@ -1465,11 +1465,11 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ݲı
-	 * @param text ı
-	 * @param x 
-	 * @param y 
-	 * @param gf 嶨
+	 * 根据参数绘制文本
+	 * @param text 文本
+	 * @param x 横坐标
+	 * @param y 纵坐标
+	 * @param gf 字体定义
 	 */
 	public void drawText(String text, int x, int y, GraphFont gf) {
 		if (!StringUtils.isValidString(text)) {
@@ -1479,9 +1479,9 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * 
-	 * @param delx ֮Ŀ
-	 * @param ci 
+	 * 画纵向网格线
+	 * @param delx 网格线之间的宽度
+	 * @param ci 网格线序号
 	 */
 	public void drawGridLineV(double delx, int ci) {
 		if (ci == 0 || ci == gp.tickNum
@@ -1503,16 +1503,16 @@ public abstract class DrawBase implements IGraph {
 				gp.gRect2.y + 1);
 		g.setStroke(new BasicStroke(0.00001f));
 		Utils.drawLine(g,
-				// бֱֻ̫̣
+				// 斜边线太短，只用直线
 				gp.gRect1.x + ci * delx,
 				gp.gRect1.y + gp.gRect1.height,
 				gp.gRect2.x + ci * delx, gp.gRect2.y + gp.gRect2.height);
 	}
 
 	/**
-	 * 
-	 * @param dely ֮ĸ߶
-	 * @param ci 
+	 * 画横向网格线
+	 * @param dely 网格线之间的高度
+	 * @param ci 网格线序号
 	 */
 	public void drawGridLine(double dely, int ci) {
 		Color c = egp.getAxisColor(IGraphProperty.AXIS_LEFT);
@@ -1520,10 +1520,10 @@ public abstract class DrawBase implements IGraph {
 		if (c != null) {
 			Utils.setStroke(g, c, Consts.LINE_SOLID, 1.0f);
 			drawLine(gp.gRect1.x - vShift.x - gp.tickLen, tmpi, gp.gRect1.x
-					- vShift.x, tmpi, c); // YС
+					- vShift.x, tmpi, c); // Y坐标轴的小短线
 		}
 
-		// ߶߸߿غϣĿǰ߿ɫȣ
+		// 由于网格线顶线跟外边框重合，目前是外边框颜色优先；
 		if (ci == 0 || ci == gp.tickNum
 				|| gp.gridLineStyle == IGraphProperty.LINE_NONE) {
 			return;
@@ -1541,8 +1541,8 @@ public abstract class DrawBase implements IGraph {
 				* dely, gp.gRect2.x + gp.gRect2.width - 1, gp.gRect2.y
 				+ gp.gRect2.height - ci * dely);
 
-		if (c != null) {// ᲻Ϊ͸ɫʱҪб
-			// бֱֻ̫̣ ;
+		if (c != null) {// 如果纵轴不为透明色时，需要绘制斜边网格
+			// 斜边线太短，只用直线 ;
 			Utils.drawLine(g,gp.gRect1.x, gp.gRect1.y + gp.gRect1.height - ci
 					* dely, gp.gRect2.x,
 					gp.gRect2.y + gp.gRect2.height - ci * dely);
@@ -1551,8 +1551,8 @@ public abstract class DrawBase implements IGraph {
 
 	
 	/**
-	 * 
-	 * @param catX ĺ
+	 * 画纵向分类网格线
+	 * @param catX 分类的横坐标
 	 */
 	public void drawGridLineCategoryV(double catX) {
 		if (gp.gridLineStyle == IGraphProperty.LINE_NONE) {
@@ -1573,8 +1573,8 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * 
-	 * @param catY 
+	 * 画横向分类网格线
+	 * @param catY 分类的纵坐标
 	 */
 	public void drawGridLineCategory(double catY) {
 		if (gp.gridLineStyle == IGraphProperty.LINE_NONE) {
@@ -1594,7 +1594,7 @@ public abstract class DrawBase implements IGraph {
 	}
 	
 	/**
-	 * óͼΧռ
+	 * 让出饼图的外围空间
 	 */
 	public void keepGraphSpace() {
 		boolean isPie = (this instanceof DrawPie)
@@ -1620,12 +1620,12 @@ public abstract class DrawBase implements IGraph {
 					String fmt;
 					String text = "";
 					ExtGraphSery egs = (ExtGraphSery) sers.get(n);
-					// ʾֵʾ
+					// 显示数值标示
 					switch (gp.dispValueType) {
-					case 1: // ʾ
+					case 1: // 不显示
 						text = "";
 						break;
-					case 2: // ʾֵ
+					case 2: // 显示数值
 						if (StringUtils.isValidString(gp.dataMarkFormat)) {
 							fmt = gp.dataMarkFormat;
 						} else {
@@ -1633,7 +1633,7 @@ public abstract class DrawBase implements IGraph {
 						}
 						text = getFormattedValue(egs.getValue(), fmt);
 						break;
-					default: // ʾٷֱ
+					default: // 显示百分比
 						if (StringUtils.isValidString(gp.dataMarkFormat)) {
 							fmt = gp.dataMarkFormat;
 						} else {
@@ -1668,7 +1668,7 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ͳͼ 
+	 * 画统计图标题 
 	 */
 	public void drawTitle() {
 		if (!StringUtils.isValidString(gp.GFV_TITLE.text)) {
@@ -1684,7 +1684,7 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ƽͼľ
+	 * 画平面图形区域的矩形
 	 */
 	public void drawGraphRect() {
 		if (gp.graphBackColor != null) {
@@ -1707,7 +1707,7 @@ public abstract class DrawBase implements IGraph {
 		}
 
 		double vx = 0, vy = 0, hx = 0, hy = 0;
-		// xyƫԼ
+		// 纵轴的x和y偏移以及横轴的
 
 		g.setStroke(new BasicStroke(1f));
 		Color c;
@@ -1811,10 +1811,10 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * 
+	 * 画坐标轴标题
 	 */
 	public void drawLabel() {
-		/* X */
+		/* 画X轴标题 */
 		String label = getLeftText();
 
 		int x = 0;
@@ -1826,7 +1826,7 @@ public abstract class DrawBase implements IGraph {
 			gp.bottomInset += TR.height + 2;
 		}
 
-		/* Y */
+		/* 画Y轴标题 */
 		if (egp.isBarGraph(this)) {
 			label = gp.GFV_XTITLE.text;
 		} else {
@@ -1834,16 +1834,16 @@ public abstract class DrawBase implements IGraph {
 		}
 
 		if (StringUtils.isValidString(label)) {
-			// Y1
+			// Y1轴标题
 			TR = gp.GFV_YTITLE.getTextSize(label);
 			x = gp.leftInset;
 
-			// ݱʱݱλûռλãŲȥ
+			// 绘制数据表时，数据表的位置会侵占纵轴位置，挪到后面去画
 			vlYTitle1 = new ValueLabel(label, new Point2D.Double(x, 0), null);
 			gp.leftInset += TR.width + 4;
 		}
 
-		if (egp.is2YGraph() && StringUtils.isValidString(gp.GFV_YTITLE.text2)) { // Y2
+		if (egp.is2YGraph() && StringUtils.isValidString(gp.GFV_YTITLE.text2)) { // Y2轴标题
 			TR = gp.GFV_YTITLE.getTextSize(gp.GFV_YTITLE.text2);
 			x = gp.graphWidth - gp.rightInset;
 
@@ -1855,14 +1855,14 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָλûһݵ
-	 * @param pt 
-	 * @param shape ״
-	 * @param radius 뾶
-	 * @param borderStyle ߿
-	 * @param borderWeight ߿ֶ
-	 * @param backColor ɫ
-	 * @param foreColor ߿ɫ
+	 * 在指定位置画一个数据点
+	 * @param pt 点的坐标
+	 * @param shape 点的形状
+	 * @param radius 半径
+	 * @param borderStyle 边框风格
+	 * @param borderWeight 边框粗度
+	 * @param backColor 背景色
+	 * @param foreColor 边框颜色
 	 */
 	public void drawPoint(Point2D.Double pt, int shape, double radius, int borderStyle,
 			float borderWeight, Color backColor, Color foreColor) {
@@ -1876,21 +1876,21 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָݣд뻺sb
-	 * @param x1 
-	 * @param y1 
-	 * @param w 
-	 * @param h ߶
-	 * @param sb html
-	 * @param category ֵ
-	 * @param egs ϵֵ
+	 * 在指定矩形区域产生超链接内容，并写入缓冲sb
+	 * @param x1 横坐标
+	 * @param y1 纵坐标
+	 * @param w 宽度
+	 * @param h 高度
+	 * @param sb html缓冲
+	 * @param category 分类值
+	 * @param egs 系列值
 	 */
 	public void htmlLink(double x1, double y1, double w, double h, StringBuffer sb,
 			Object category, ExtGraphSery egs) {
 		if (disableLink()) {
 			return;
 		}
-		// Ӵ
+		// 超连接处理
 		int minimum = 10;
 		if (w < minimum) {
 			w = minimum;
@@ -1916,18 +1916,18 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָݣд뻺sb
-	 * @param x1 
-	 * @param y1 
-	 * @param w 
-	 * @param h ߶
-	 * @param sb html
-	 * @param category ֵ
-	 * @param egs ϵֵ
+	 * 在指定区域产生超链接内容，并写入缓冲sb，方法废弃
+	 * @param x1 横坐标
+	 * @param y1 纵坐标
+	 * @param w 宽度
+	 * @param h 高度
+	 * @param sb html缓冲
+	 * @param category 分类值
+	 * @param egs 系列值
 	 */
 	public void htmlLink2(double x1, double y1, double w, double h, StringBuffer sb,
 			Object category, ExtGraphSery egs) {
-		// Ӵ
+		// 超连接处理
 		if (disableLink()) {
 			return;
 		}
@@ -1956,12 +1956,12 @@ public abstract class DrawBase implements IGraph {
 	private boolean debuglink = true;
 
 	/**
-	 * һλ״ĳӣд뻺sb
-	 * @param ddd Χ
-	 * @param sb html
-	 * @param category ֵ
-	 * @param egs ϵֵ
-	 * @param ddd2 Χ
+	 * 生成一段环形状的超链接，并将内容写入缓冲sb
+	 * @param ddd 外围弧
+	 * @param sb html缓冲
+	 * @param category 分类值
+	 * @param egs 系列值
+	 * @param ddd2 内围弧
 	 */
 	public void htmlLink(Arc2D.Double ddd, StringBuffer sb, Object category,
 			ExtGraphSery egs, Arc2D.Double ddd2) {
@@ -2014,7 +2014,7 @@ public abstract class DrawBase implements IGraph {
 		coords.append("," + (int) ddd.getEndPoint().getX());
 		coords.append(seperator + (int) ddd.getEndPoint().getY());
 
-		if (ddd2 != null) { // С÷
+		if (ddd2 != null) { // 小环坐标得反过来
 			coords.append("," + (int) ddd2.getEndPoint().getX());
 			coords.append(seperator + (int) ddd2.getEndPoint().getY());
 
@@ -2032,7 +2032,7 @@ public abstract class DrawBase implements IGraph {
 			coords.append(seperator + (int) ddd2.getStartPoint().getY());
 		}
 
-		// ͼhtmllinkݲʹøʽΪͼʾΪٷֱʱlinkΪԭֵʹöĸʽ
+		// 饼图的htmllink数据不再使用格式化，因为饼图本身显示数据为百分比时，link的数据为原值，不能使用定义的格式
 		String dispVal = null;
 		if (!egs.isNull()) {
 			double scaledVal = getScaledValue(egs.getValue(), true);
@@ -2047,7 +2047,7 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ȡstroke
+	 * 取折线stroke
 	 * @return stroke
 	 */
 	public Stroke getLineStroke() {
@@ -2055,9 +2055,9 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ݶֱstroke
-	 * @param style 
-	 * @param thick ֶ
+	 * 根据定义产生直线stroke
+	 * @param style 线型
+	 * @param thick 粗度
 	 * @return stroke
 	 */
 	public BasicStroke getLineStroke(int style, float thick) {
@@ -2072,8 +2072,8 @@ public abstract class DrawBase implements IGraph {
 			dashes = new float[] { 2, 2, 6, 2 };
 			break;
 		case IGraphProperty.LINE_2DOT_DASH:
-			dashes = new float[] { 2, 2, 2, 2, 6, 2 }; // һڵĶ
-														// ʵ2,2,ʵ2,2,ʵ6,2
+			dashes = new float[] { 2, 2, 2, 2, 6, 2 }; // 一节的定义
+														// 实2,空2,实2,空2,实6,空2
 			break;
 		case IGraphProperty.LINE_LONG_DASH:
 			dashes = new float[] { 5 };
@@ -2089,11 +2089,11 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ھΪģǩüԿվģԲֵۻ
-	 * úֵǩʱ°տվ㸲Ǹ÷Ա֤ߵһ
+	 * 由于警戒线坐标为整体计算的，而坐标标签则是用间隔乘以空距累算的，所以部分值有累积误差
+	 * 该函数解决当警戒值包含在坐标标签中时，由子类重新按照空距累算覆盖该方法以保证两者的坐标一致
 	 * 
 	 * @param alarmVal
-	 *            double ֵ
+	 *            double 警戒值
 	 * @return Point null
 	 */
 	public Point2D.Double getCoorPoint(double alarmVal) {
@@ -2101,7 +2101,7 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ƾ
+	 * 绘制警戒线
 	 */
 	public void drawWarnLine() {
 		ArrayList warnLines = egp.getAlarmLines();
@@ -2156,7 +2156,7 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ƺľ
+	 * 绘制横向坐标轴的警戒线
 	 */
 	public void drawWarnLineH() {
 		ArrayList warnLines = egp.getAlarmLines();
@@ -2207,11 +2207,11 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ĸԷװͼͼ
-	 * @param gf 嶨
-	 * @param text 
-	 * @param fontType 
-	 * @return ͼ
+	 * 将字体的各类属性封装到字体视图，方便绘图参数传递
+	 * @param gf 字体定义
+	 * @param text 文字
+	 * @param fontType 字体类型
+	 * @return 字体视图
 	 */
 	public GraphFontView getGraphFontView(GraphFont gf, String text,
 			int fontType) {
@@ -2334,13 +2334,13 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ֵǩ,ʱͼ򴴽xʱ̶ֵ
+	 * 创建纵坐标的值标签,如果是时间序列图，则创建x轴的时间刻度值
 	 */
 	public void createCoorValue() {
 		createCoorValue(true);
 	}
 
-	// ѻͼֵȻûãΪи˴Ϊֵ
+	// 堆积图的最大值仍然没法设置，因为有正有负，此处调整为合理最大值
 	private double getAutoInterval(double max) {
 		if (max > 50) {
 			return (10 * gp.coorScale);
@@ -2351,8 +2351,8 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ̶ֵ
-	 * @param adjustMaxValue ̶ֵΪȡֵ
+	 * 产生坐标刻度值
+	 * @param adjustMaxValue 调整刻度最大值为取整值
 	 */
 	public void createCoorValue(boolean adjustMaxValue) {
 		if (!egp.isStackedGraph(this)) {
@@ -2403,7 +2403,7 @@ public abstract class DrawBase implements IGraph {
 			if (gp.interval == 0.0) {
 				gp.interval = getAutoInterval(gp.maxValue);
 			}
-			double veryMin = 0.000001;// û趨ļֵȻûܽӽʱٵ
+			double veryMin = 0.000001;// 由用户设定的间隔值仍然没法整除，但很接近时，不再调整
 			if (gp.maxValue % (gp.interval / gp.coorScale) > veryMin
 					&& adjustMaxValue) {
 				gp.maxValue = gp.maxValue - gp.maxValue
@@ -2558,30 +2558,30 @@ public abstract class DrawBase implements IGraph {
 					gp.GFV_YTITLE.text = gp.GFV_YTITLE.text + "("
 							+ gp.xToChinese(gp.coorScale) + ")";
 				} else {
-					gp.GFV_YTITLE.text = gp.GFV_YTITLE.text + "(1:"
+					gp.GFV_YTITLE.text = gp.GFV_YTITLE.text + "(比例：1:"
 							+ gp.coorScale + ")";
 				}
 			} else if (gp.scaleMark != IGraphProperty.UNIT_ORIGIN) {
 				if (gp.scaleMark == IGraphProperty.UNIT_THOUSAND) {
-					gp.GFV_YTITLE.text += "(ǧ)";
+					gp.GFV_YTITLE.text += "(千)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_10THOUSAND) {
-					gp.GFV_YTITLE.text += "()";
+					gp.GFV_YTITLE.text += "(万)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_MILLION) {
-					gp.GFV_YTITLE.text += "()";
+					gp.GFV_YTITLE.text += "(百万)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_10MILLION) {
-					gp.GFV_YTITLE.text += "(ǧ)";
+					gp.GFV_YTITLE.text += "(千万)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_100MILLION) {
-					gp.GFV_YTITLE.text += "()";
+					gp.GFV_YTITLE.text += "(亿)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_BILLION) {
-					gp.GFV_YTITLE.text += "(ʮ)";
+					gp.GFV_YTITLE.text += "(十亿)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_001) {
-					gp.GFV_YTITLE.text += "(ٷ֮һ)";
+					gp.GFV_YTITLE.text += "(百分之一)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_0001) {
-					gp.GFV_YTITLE.text += "(ǧ֮һ)";
+					gp.GFV_YTITLE.text += "(千分之一)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_00001) {
-					gp.GFV_YTITLE.text += "(֮һ)";
+					gp.GFV_YTITLE.text += "(万分之一)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_0000001) {
-					gp.GFV_YTITLE.text += "(֮һ)";
+					gp.GFV_YTITLE.text += "(百万分之一)";
 				}
 			}
 		} else { // English
@@ -2788,30 +2788,30 @@ public abstract class DrawBase implements IGraph {
 					gp.GFV_YTITLE.text2 = gp.GFV_YTITLE.text2 + "("
 							+ gp.xToChinese(gp.coorScale2) + ")";
 				} else {
-					gp.GFV_YTITLE.text2 = gp.GFV_YTITLE.text2 + "(1:"
+					gp.GFV_YTITLE.text2 = gp.GFV_YTITLE.text2 + "(比例：1:"
 							+ gp.coorScale2 + ")";
 				}
 			} else if (gp.scaleMark != IGraphProperty.UNIT_ORIGIN) {
 				if (gp.scaleMark == IGraphProperty.UNIT_THOUSAND) {
-					gp.GFV_YTITLE.text2 += "(ǧ)";
+					gp.GFV_YTITLE.text2 += "(千)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_10THOUSAND) {
-					gp.GFV_YTITLE.text2 += "()";
+					gp.GFV_YTITLE.text2 += "(万)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_MILLION) {
-					gp.GFV_YTITLE.text2 += "()";
+					gp.GFV_YTITLE.text2 += "(百万)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_10MILLION) {
-					gp.GFV_YTITLE.text2 += "(ǧ)";
+					gp.GFV_YTITLE.text2 += "(千万)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_BILLION) {
-					gp.GFV_YTITLE.text2 += "()";
+					gp.GFV_YTITLE.text2 += "(亿)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_100MILLION) {
-					gp.GFV_YTITLE.text2 += "(ʮ)";
+					gp.GFV_YTITLE.text2 += "(十亿)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_001) {
-					gp.GFV_YTITLE.text2 += "(ٷ֮һ)";
+					gp.GFV_YTITLE.text2 += "(百分之一)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_0001) {
-					gp.GFV_YTITLE.text2 += "(ǧ֮һ)";
+					gp.GFV_YTITLE.text2 += "(千分之一)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_00001) {
-					gp.GFV_YTITLE.text2 += "(֮һ)";
+					gp.GFV_YTITLE.text2 += "(万分之一)";
 				} else if (gp.scaleMark == IGraphProperty.UNIT_0000001) {
-					gp.GFV_YTITLE.text2 += "(֮һ)";
+					gp.GFV_YTITLE.text2 += "(百万分之一)";
 				}
 			}
 		} else { // English
@@ -2840,8 +2840,8 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ݱ
-	 * Ŀǰֻ״ͼ·ݱ
+	 * 绘制数据表
+	 * 目前只考虑在柱状图的下方画数据表
 	 */
 	public void drawDataTable() {
 		float axisWidth = gp.graphWidth - gp.leftInset - gp.rightInset;
@@ -2923,7 +2923,7 @@ public abstract class DrawBase implements IGraph {
 			yy = y;
 		}
 		for (int i = 0; i < al.size(); i++) {
-			if (i > 0 && yy + lineH > y + h) { // һǻƣڿⲻڸǱĸ
+			if (i > 0 && yy + lineH > y + h) { // 第一行总是绘制，其余行如果在框外不画，否则遮盖别的格子文字
 				break;
 			}
 
@@ -2945,7 +2945,7 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * λ
+	 * 调整坐标缩进位置
 	 * */
 	public void adjustCoorInset() {
 		int maxValW = 0;
@@ -2993,7 +2993,7 @@ public abstract class DrawBase implements IGraph {
 			gp.bottomInset += maxValH + 4;
 		} else {
 			gp.leftInset += maxValW + 4;
-			if (!gp.isDrawTable) {// Ŀǰݱ֧Xϻ
+			if (!gp.isDrawTable) {// 目前的数据表仅支持在X轴上绘制
 				gp.bottomInset += maxCatH + 4;
 			}
 
@@ -3022,14 +3022,14 @@ public abstract class DrawBase implements IGraph {
 				gp.rightInset += maxValW + 4;
 			}
 
-			if (gp.isDrawTable) {// Ŀǰݱ֧Xϻ
+			if (gp.isDrawTable) {// 目前的数据表仅支持在X轴上绘制
 				drawDataTable();
 			}
 		}
 	}
 
 	/**
-	 * ʼͳͼ߾
+	 * 初始化统计图边距
 	 */
 	public void initGraphInset() {
 		gp.leftInset = gp.leftMargin;
@@ -3039,13 +3039,13 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ָʽʽ
+	 * 指定格式来格式化数据
 	 * 
 	 * @param value
-	 *            double Ҫʽֵ
+	 *            double 要格式化的数值
 	 * @param fmt
-	 *            String ʽ
-	 * @return String ʽĴ
+	 *            String 格式
+	 * @return String 格式化后的串
 	 */
 	public String getFormattedValue(double value, String fmt) {
 		double tmp = value;
@@ -3060,20 +3060,20 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ʹõĸʽʽֵ
+	 * 使用配置的格式来格式化数值
 	 * @param value
-	 *            doubleҪʽֵ
-	 * @return StringʽĴ
+	 *            double，要格式化的数值
+	 * @return String，格式化完后的串
 	 */
 	public String getFormattedValue(double value) {
 		return getFormattedValue(value, gp.dataMarkFormat);
 	}
 
 	/**
-	 * ԭֵݵλֵ
-	 * @param orginalVal ԭʼֵ
-	 * @param isFirstAxis Ƿһֵ
-	 * @return ֵ
+	 * 将原值根据单位算出比例值
+	 * @param orginalVal 原始数值
+	 * @param isFirstAxis 是否第一轴数值
+	 * @return 比例化后的数值
 	 */
 	public double getScaledValue(double orginalVal, boolean isFirstAxis) {
 		double scaledVal;
@@ -3087,20 +3087,20 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ȡϵжtipʾֵ
-	 * @param egs ϵ
-	 * @return ʾֵ
+	 * 获取系列定义的tip显示值
+	 * @param egs 系列
+	 * @return 显示值
 	 */
 	public String getDispValue(ExtGraphSery egs) {
 		return getDispValue(null, egs, 0);
 	}
 
 	/**
-	 * ȡԼϵеĳtipʾֵ
-	 * @param egc 
-	 * @param egs ϵ
-	 * @param serNum ϵи
-	 * @return ʽʾֵ
+	 * 获取分类以及系列的超链接tip显示值
+	 * @param egc 分类
+	 * @param egs 系列
+	 * @param serNum 系列个数
+	 * @return 格式串显示值
 	 */
 	public String getDispValue(ExtGraphCategory egc, ExtGraphSery egs,
 			int serNum) {
@@ -3117,20 +3117,20 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ȡϵжtipʾֵ˫ͼ2
-	 * @param egs ϵ
-	 * @return ʾֵ
+	 * 获取系列定义的tip显示值，双轴图第2轴用
+	 * @param egs 系列
+	 * @return 显示值
 	 */
 	public String getDispValue2(ExtGraphSery egs) {
 		return getDispValue2(null, egs, 0);
 	}
 
 	/**
-	 * ȡԼϵеĳtipʾֵ˫ͼ2
-	 * @param egc 
-	 * @param egs ϵ
-	 * @param serNum ϵи
-	 * @return ʽʾֵ
+	 * 获取分类以及系列的超链接tip显示值，双轴图第2轴数据用
+	 * @param egc 分类
+	 * @param egs 系列
+	 * @param serNum 系列个数
+	 * @return 格式串显示值
 	 */
 	public String getDispValue2(ExtGraphCategory egc, ExtGraphSery egs,
 			int serNum) {
@@ -3155,11 +3155,11 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ýʾֵʾΪtitlevalueĸʽֵ
-	 * @param value ԭʼֵ
-	 * @param title ȱʡʾ
-	 * @param fmt ʽ
-	 * @return string ʽʾֵ
+	 * 根据配置将显示值显示为title还是value的格式化值
+	 * @param value 原始数值
+	 * @param title 缺省显示标题
+	 * @param fmt 格式
+	 * @return string 格式串显示值
 	 */
 	public String getDispValue(double value, String title) {
 		if (gp.dispValueType == IGraphProperty.DISPDATA_TITLE) {
@@ -3170,19 +3170,19 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ֱ
-	 * @param b ʼ
-	 * @param e 
+	 * 绘制两点间的直线
+	 * @param b 起始点
+	 * @param e 结束点
 	 */
 	public void drawLine(Point2D.Double b, Point2D.Double e) {
 		drawLine(b, e, egp.isDrawShade());
 	}
 
 	/**
-	 * ֱ
-	 * @param b ʼ
-	 * @param e 
-	 * @param drawShade ǷӰ
+	 * 绘制两点间的直线
+	 * @param b 起始点
+	 * @param e 结束点
+	 * @param drawShade 是否绘制阴影
 	 */
 	public void drawLine(Point2D.Double b, Point2D.Double e, boolean drawShade) {
 		if (b == null || e == null) {
@@ -3205,8 +3205,8 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ǰǷΪĻ
-	 * @return Ƿtrue򷵻false
+	 * 当前环境是否为中文环境
+	 * @return 如果是返回true，否则返回false
 	 */
 	public static boolean isChinese() {
 		return (Locale.getDefault().equals(Locale.CHINA)
@@ -3215,11 +3215,11 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ȡϵеʾ
-	 * @param egc 
-	 * @param egs ϵ
-	 * @param serNum ϵ
-	 * @return ʾ
+	 * 获取分类和系列的显示名
+	 * @param egc 分类
+	 * @param egs 系列
+	 * @param serNum 系类个数
+	 * @return 显示名
 	 */
 	public static String getDispName(ExtGraphCategory egc, ExtGraphSery egs,
 			int serNum) {
@@ -3230,9 +3230,9 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ݱĸ߶
-	 * @param cs ݱ
-	 * @return ߶
+	 * 计算数据表的高度
+	 * @param cs 数据表的网格对象
+	 * @return 高度
 	 */
 	public float getDataTableHeight(CellSet cs) {
 		int rows = cs.getRowCount();
@@ -3245,9 +3245,9 @@ public abstract class DrawBase implements IGraph {
 	}
 
 	/**
-	 * ȡֺиߣпĵݱ
-	 * @param axisLen ĳ
-	 * @return ݱ
+	 * 获取布局好行高，列宽后的的数据表网格
+	 * @param axisLen 轴的长度
+	 * @return 数据表网格
 	 */
 	public CellSet getDataTable(double axisLen) {
 		int rows = gp.serNum + 1;
@@ -3308,7 +3308,7 @@ public abstract class DrawBase implements IGraph {
 				}
 			}
 		}
-		// ݱķԼϵƲ xǩ壬ԶŴи
+		// 数据表的分类以及系列名称采用 x轴标签字体，自动撑大行高
 		for (int r = 1; r <= rows; r++) {
 			IRowCell rc = cs.getRowCell(r);
 			float rowH = rc.getHeight();
@@ -10,25 +10,25 @@ import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 
 /**
- * ͼʵ
+ * 柱图实现
  * @author Joancy
  *
  */
 public class DrawCol extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static int drawing(DrawBase db,StringBuffer htmlLink) {
-		//ٸĶ룬ͬҪõʵ
+		//少改动代码，同名引出要用到的实例
 		GraphParam gp = db.gp;
 		ExtGraphProperty egp = db.egp;
 		Graphics2D g = db.g;
@@ -83,35 +83,35 @@ public class DrawCol extends DrawBase {
 		dely = (gp.graphRect.height - coorWidth) / gp.tickNum;
 		gp.gRect1 = (Rectangle2D.Double)gp.graphRect.clone();
 		gp.gRect2 = (Rectangle2D.Double)gp.graphRect.clone();
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
-			// 
+			// 画背景虚线
 			db.drawGridLine(dely, i);
-			// дyǩ
+			// 写y轴标签
 			Number coory = (Number) gp.coorValue.get(i);
 			String scoory = db.getFormattedValue(coory.doubleValue());
 			x = gp.gRect1.x - gp.tickLen;
 			y = gp.gRect1.y + gp.gRect1.height - i * dely;
 			gp.GFV_YLABEL.outText(x, y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine = (gp.gRect1.y + gp.gRect1.height - i* dely);
 			}
 		}
 
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 
-		/* X */
+		/* 画X轴 */
 		ArrayList cats = egp.categories;
 		Color c;
 		for (int i = 0; i < gp.catNum; i++) {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double delx = (i + 1) * categorySpan + i * seriesWidth
 					* gp.serNum + seriesWidth * gp.serNum / 2.0;
-			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//ǷʾֵTableֿ
+			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//柱顶是否显示值跟画Table分开
 			boolean vis = valvis && !gp.isDrawTable;
 
 			if (vis) {
@@ -120,7 +120,7 @@ public class DrawCol extends DrawBase {
 				db.drawLine(gp.gRect1.x + delx, gp.gRect1.y + gp.gRect1.height,
 						gp.gRect1.x + delx, gp.gRect1.y + gp.gRect1.height
 								+ gp.tickLen,c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(gp.gRect1.x + delx);
 			}
 
@@ -146,7 +146,7 @@ public class DrawCol extends DrawBase {
 							* seriesWidth;
 				}
 				
-				// 
+				// 画柱子
 				if (len >= 0) {
 					Color tmpc;
 					if (!gp.isMultiSeries) {
@@ -181,7 +181,7 @@ public class DrawCol extends DrawBase {
 							Math.abs(len), htmlLink, egc.getNameString(), egs);
 				}
 
-				// ʾֵ
+				// 在柱顶显示数值
 				if (gp.dispValueOntop && !egs.isNull() && valvis) {
 					sval = db.getDispValue(egc,egs,gp.serNum);
 					x = lb + seriesWidth / 2;
@@ -206,7 +206,7 @@ public class DrawCol extends DrawBase {
 		}
 		db.outLabels();
 
-		/* ػһ» */
+		/* 重画一下基线 */
 		db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x + gp.gRect1.width,
 				gp.valueBaseLine, egp.getAxisColor(GraphProperty.AXIS_BOTTOM));
 		db.drawLine(gp.gRect1.x + gp.gRect1.width, gp.valueBaseLine,
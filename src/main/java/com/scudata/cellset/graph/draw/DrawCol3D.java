@@ -9,23 +9,23 @@ import com.scudata.cellset.graph.*;
 import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 /**
- * άͼʵ
+ * 三维柱图实现
  * @author Joancy
  *
  */
 
 public class DrawCol3D extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -101,10 +101,10 @@ public class DrawCol3D extends DrawBase {
 		gp.gRect2.y =  (gp.gRect1.y - coorWidth);
 		gp.gRect2.height = gp.gRect1.height;
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
 		Point2D.Double p;
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
 
@@ -113,13 +113,13 @@ public class DrawCol3D extends DrawBase {
 
 			p = db.getVTickPoint(i*dely);
 			gp.GFV_YLABEL.outText(p.x-gp.tickLen, p.y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.y + gp.gRect1.height - i
 						* dely);
 			}
 		}
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 		if (gp.graphTransparent) {
 			g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
@@ -129,7 +129,7 @@ public class DrawCol3D extends DrawBase {
 		int cc = cats.size();
 		Color c;
 		
-		/*  */
+		/* 画负数柱子 */
 		for (int i = 0; i < cc; i++) {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double delx = (i + 1) * categorySpan + i * seriesWidth + seriesWidth / 2.0;
@@ -147,7 +147,7 @@ public class DrawCol3D extends DrawBase {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
 				Utils.setStroke(g, c, Consts.LINE_SOLID, 1.0f);
 				db.drawLine(p.x,p.y,p.x,p.y+gp.tickLen,c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(gp.gRect2.x + delx);
 			}
 
@@ -180,7 +180,7 @@ public class DrawCol3D extends DrawBase {
 				}
 				db.drawRectCube(lb, seriesWidth, len, seriesDeep, br,
 						cIndex, htmlLink, egc.getNameString(), egs);
-				// ֣ᱻͼθ
+				// 最后输出文字，否则会被图形覆盖
 				if (gp.dispValueOntop && !egs.isNull() && vis) {
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					x = lb + br +  seriesWidth / 2;// - TR.width / 2;
@@ -205,9 +205,9 @@ public class DrawCol3D extends DrawBase {
 			}
 
 		}
-//		ƽ治͸Ӧסֵ
+//		负数的数据先输出，如果下述平面不透明，就应盖住负数的柱顶值
 		db.outLabels();
-		// ƻ͸ƽ棬
+		// 绘制基线透明平面，
 		if (gp.valueBaseLine != gp.gRect1.y + gp.gRect1.height) {
 			double xx[] = { gp.gRect1.x,  (gp.gRect1.x + coorWidth),
 					 (gp.gRect1.x + gp.gRect1.width + coorWidth),
@@ -218,7 +218,7 @@ public class DrawCol3D extends DrawBase {
 			Shape poly = Utils.newPolygon2D(xx, yy);
 
 			Color ccc = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
-			if (ccc == null) {// ױΪ͸ɫʱʹȱʡ
+			if (ccc == null) {// 如果底边为透明色时，使用缺省灰
 				ccc = Color.lightGray;
 			}
 			float trans = 1.0f;
@@ -229,7 +229,7 @@ public class DrawCol3D extends DrawBase {
 			Utils.fill(g, poly, trans,ccc);
 		}
 
-		/*  */
+		/* 画正数数柱子 */
 		for (int i = 0; i < cc; i++) {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double delx = (i + 1) * categorySpan + i * seriesWidth + seriesWidth / 2.0;
@@ -268,7 +268,7 @@ public class DrawCol3D extends DrawBase {
 				}
 				db.drawRectCube(lb, seriesWidth, len, seriesDeep, br,
 						cIndex, htmlLink, egc.getNameString(), egs);
-				// ֣ᱻͼθ
+				// 最后输出文字，否则会被图形覆盖
 				if (gp.dispValueOntop && !egs.isNull() && vis) {
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					x = lb + br +  seriesWidth / 2;// - TR.width / 2;
@@ -299,7 +299,7 @@ public class DrawCol3D extends DrawBase {
 					1.00F));
 		}
 		db.outLabels();
-		/* һ» */
+		/* 画一下基线 */
 		if (gp.valueBaseLine != gp.gRect1.y + gp.gRect1.height) {
 			db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x
 					+ gp.gRect1.width, gp.valueBaseLine,
@@ -9,23 +9,23 @@ import com.scudata.cellset.graph.*;
 import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 /**
- * άͼʵ
+ * 三维立体柱图实现
  * @author Joancy
  *
  */
 
 public class DrawCol3DObj extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -97,9 +97,9 @@ public class DrawCol3DObj extends DrawBase {
 		gp.gRect2.width -= coorWidth;
 		gp.gRect2.height -= coorWidth;
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
-		/* Y */
+		/* 画Y轴 */
 		Point2D.Double p;
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
@@ -107,17 +107,17 @@ public class DrawCol3DObj extends DrawBase {
 			String scoory = db.getFormattedValue(coory.doubleValue());
 			p = db.getVTickPoint(i*dely);
 			gp.GFV_YLABEL.outText(p.x-gp.tickLen, p.y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.y + gp.gRect1.height - i
 						* dely);
 			}
 		}
 
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 		
-		/* Ȼ */
+		/* 先画负数柱子 */
 		if (gp.graphTransparent) {
 			g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
 					0.60F));
@@ -136,7 +136,7 @@ public class DrawCol3DObj extends DrawBase {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
 				Utils.setStroke(g, c, Consts.LINE_SOLID, 1.0f);
 				db.drawLine(p.x, p.y,p.x, p.y + gp.tickLen,c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(gp.gRect2.x + delx);
 			}
 
@@ -166,7 +166,7 @@ public class DrawCol3DObj extends DrawBase {
 				}
 				db.drawRectCube(lb, seriesWidth, len, coorWidth, 0,
 						cIndex, htmlLink, egc.getNameString(), egs);
-				if (gp.dispValueOntop && !egs.isNull() && vis) { // ʾֵ
+				if (gp.dispValueOntop && !egs.isNull() && vis) { // 柱顶显示数值
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					x = lb + seriesWidth / 2; // - TR.width / 2;
 					y = gp.valueBaseLine - len;
@@ -188,7 +188,7 @@ public class DrawCol3DObj extends DrawBase {
 			}
 		}
 		
-		// ƻ͸ƽ棬
+		// 绘制基线透明平面，
 		if (gp.valueBaseLine != gp.gRect1.y + gp.gRect1.height) {
 			double xx[] = { gp.gRect1.x, gp.gRect1.x + coorWidth,
 					gp.gRect1.x + gp.gRect1.width + coorWidth,
@@ -199,7 +199,7 @@ public class DrawCol3DObj extends DrawBase {
 			Shape poly = Utils.newPolygon2D(xx, yy);
 
 			Color ccc = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
-			if (ccc == null) {// ױΪ͸ɫʱʹȱʡ
+			if (ccc == null) {// 如果底边为透明色时，使用缺省灰
 				ccc = Color.lightGray;
 			}
 			float trans = 1.0f;
@@ -210,7 +210,7 @@ public class DrawCol3DObj extends DrawBase {
 			Utils.fill(g, poly, trans, ccc);
 		}
 		
-//ٻ
+//再画正数柱子
 		for (int i = 0; i < cc; i++) {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			boolean vis = i % (gp.graphXInterval + 1) == 0;
@@ -239,7 +239,7 @@ public class DrawCol3DObj extends DrawBase {
 				}
 				db.drawRectCube(lb, seriesWidth, len, coorWidth, 0,
 						cIndex, htmlLink, egc.getNameString(), egs);
-				if (gp.dispValueOntop && !egs.isNull() && vis) { // ʾֵ
+				if (gp.dispValueOntop && !egs.isNull() && vis) { // 柱顶显示数值
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					x = lb + seriesWidth / 2; // - TR.width / 2;
 					y = gp.valueBaseLine - len;
@@ -268,7 +268,7 @@ public class DrawCol3DObj extends DrawBase {
 		}
 		db.outLabels();
 		
-		/* ߸غʱҪ */
+		/* 当基线跟底座不重合时，才需要绘制 */
 		if (gp.valueBaseLine != gp.gRect1.y + gp.gRect1.height) {
 			db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x
 					+ gp.gRect1.width, gp.valueBaseLine,
@@ -11,32 +11,32 @@ import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 import com.scudata.common.*;
 /**
- * ѻͼʵ
+ * 堆积柱图实现
  * @author Joancy
  *
  */
 
 public class DrawColStacked extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static int drawing(DrawBase db, StringBuffer htmlLink) {
 		return drawing(db,htmlLink,false);
 	}
 	
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static int drawing(DrawBase db, StringBuffer htmlLink, boolean is2Y) {
 		GraphParam gp = db.gp;
@@ -71,9 +71,9 @@ public class DrawColStacked extends DrawBase {
 		}
 		ArrayList tmpCat = null;
 		if ( is2Y ) {
-//			ڶѻͼϵУ˫ͼis2Yͬʱʹcategory2гͻ
-//			is2YƶѻͼʱҪcategory2öѻϵ
-//			ѻͼٻ˫ 
+//			由于堆积图的其他系列，跟双轴图is2Y的右轴同时使用了category2变量，有冲突
+//			因此is2Y绘制堆积图时，需要忽略category2，让堆积画法不画其他系列
+//			堆积图画完后，再画双轴的折线 
 			tmpCat = egp.category2;
 			egp.category2 = null;
 		}
@@ -106,9 +106,9 @@ public class DrawColStacked extends DrawBase {
 		dely = (gp.graphRect.height - coorWidth) / gp.tickNum;
 		gp.gRect1 = (Rectangle2D.Double)gp.graphRect.clone();
 		gp.gRect2 = (Rectangle2D.Double)gp.graphRect.clone();
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
 
@@ -118,17 +118,17 @@ public class DrawColStacked extends DrawBase {
 			x = gp.gRect1.x - gp.tickLen;
 			y = gp.gRect1.y + gp.gRect1.height - i * dely;
 			gp.GFV_YLABEL.outText(x, y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.y + gp.gRect1.height - i
 						* dely);
 			}
 		}
 
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 
-		/* X */
+		/* 画X轴 */
 		ArrayList cats = egp.categories;
 		int cc = cats.size();
 		Color c;
@@ -137,7 +137,7 @@ public class DrawColStacked extends DrawBase {
 			double delx = (i + 1) * categorySpan + i * seriesWidth
 					* serNum + seriesWidth * serNum / 2.0;
 			
-			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//ǷʾֵTableֿ
+			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//柱顶是否显示值跟画Table分开
 			boolean vis = valvis && !gp.isDrawTable;
 			if (vis) {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
@@ -145,7 +145,7 @@ public class DrawColStacked extends DrawBase {
 				db.drawLine(gp.gRect1.x + delx, gp.gRect1.y + gp.gRect1.height,
 						gp.gRect1.x + delx, gp.gRect1.y + gp.gRect1.height
 								+ gp.tickLen, c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(gp.gRect1.x + delx);
 			}
 
@@ -199,7 +199,7 @@ public class DrawColStacked extends DrawBase {
 		}
 
 		db.outLabels();
-		/* ػһ» */
+		/* 重画一下基线 */
 		db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x
 				+ gp.gRect1.width, gp.valueBaseLine,
 				egp.getAxisColor(GraphProperty.AXIS_BOTTOM));
@@ -355,7 +355,7 @@ public class DrawColStacked extends DrawBase {
 			}
 		}
 		
-		// ʾֵ
+		// 在柱顶显示数值
 		if (gp.dispStackSumValue && vis) {
 			double val = db
 					.getScaledValue(egc.getPositiveSumSeries(), true);
@@ -11,23 +11,23 @@ import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 import com.scudata.common.*;
 /**
- * άѻͼʵ
+ * 三维堆积立体柱图实现
  * @author Joancy
  *
  */
 
 public class DrawColStacked3DObj extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db, StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -108,10 +108,10 @@ public class DrawColStacked3DObj extends DrawBase {
 		gp.gRect2.width -= coorWidth;
 		gp.gRect2.height -= coorWidth;
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
 		Point2D.Double p;
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
 			Number coory = (Number) gp.coorValue.get(i);
@@ -119,7 +119,7 @@ public class DrawColStacked3DObj extends DrawBase {
 
 			p = db.getVTickPoint(i * dely);
 			gp.GFV_YLABEL.outText(p.x - gp.tickLen, p.y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.y + gp.gRect1.height - i
 						* dely);
@@ -127,17 +127,17 @@ public class DrawColStacked3DObj extends DrawBase {
 		}
 
 		
-		/* Ȼ */
+		/* 先画负的柱子 */
 		ArrayList<Desc3DRect> negativeRects = new ArrayList<Desc3DRect>();
 		ArrayList cats = egp.categories;
 		int cc = cats.size();
 		Color c;
 		
-//		͸Ȼ
+//		柱子有正和负，先画背景网格线
 		for (int i = 0; i < cc; i++) {
 			double delx = (i + 1) * categorySpan + i * seriesWidth
 					* serNum + seriesWidth * serNum / 2.0;
-			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//ǷʾֵTableֿ
+			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//柱顶是否显示值跟画Table分开
 			boolean vis = valvis && !gp.isDrawTable;
 			p = db.getHTickPoint(delx);
 			if (vis) {
@@ -195,7 +195,7 @@ public class DrawColStacked3DObj extends DrawBase {
 			}
 		}
 
-		// ƻ͸ƽ棬
+		// 绘制基线透明平面，
 		if (gp.valueBaseLine != gp.gRect1.y + gp.gRect1.height) {
 			double xx[] = { gp.gRect1.x, gp.gRect1.x + coorWidth,
 					gp.gRect1.x + gp.gRect1.width + coorWidth,
@@ -206,7 +206,7 @@ public class DrawColStacked3DObj extends DrawBase {
 			Shape poly = Utils.newPolygon2D(xx, yy);
 
 			Color ccc = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
-			if (ccc == null) {// ױΪ͸ɫʱʹȱʡ
+			if (ccc == null) {// 如果底边为透明色时，使用缺省灰
 				ccc = Color.lightGray;
 			}
 			float trans = 1.0f;
@@ -216,10 +216,10 @@ public class DrawColStacked3DObj extends DrawBase {
 			Utils.fill(g, poly, trans,ccc);
 		}
 
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 
-		/*  */
+		/* 画正数柱子 */
 		for (int i = 0; i < cc; i++) {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double delx = (i + 1) * categorySpan + i * seriesWidth
@@ -269,7 +269,7 @@ public class DrawColStacked3DObj extends DrawBase {
 		}
 
 		db.outLabels();
-		/* ػһ» */
+		/* 重画一下基线 */
 		if (gp.valueBaseLine != gp.gRect1.y + gp.gRect1.height) {
 			db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x
 					+ gp.gRect1.width, gp.valueBaseLine,
@@ -344,7 +344,7 @@ public class DrawColStacked3DObj extends DrawBase {
 			ValueLabel vl = null;
 			double x = (lb + seriesWidth / 2);
 			if (len > 0) {
-				// Ѿ
+				// 上面已经跳过
 			} else {
 				String sval = null;
 				if (percentFmt != null) {
@@ -376,7 +376,7 @@ public class DrawColStacked3DObj extends DrawBase {
 					1.00F));
 		}
 
-		// ʾֵ
+		// 在柱顶显示数值
 		if (gp.dispStackSumValue && vis) {
 			double val = db.getScaledValue(egc.getPositiveSumSeries(), true);
 			String sval;
@@ -462,7 +462,7 @@ public class DrawColStacked3DObj extends DrawBase {
 			double x = (lb + seriesWidth / 2);
 			if (len > 0) {
 				String sval = null;
-				if (percentFmt != null) {// ʾٷֱ
+				if (percentFmt != null) {// 柱中显示百分比
 					sval = db.getFormattedValue(
 							egs.getValue() / egc.getPositiveSumSeries(),
 							percentFmt);
@@ -482,7 +482,7 @@ public class DrawColStacked3DObj extends DrawBase {
 
 				positiveBase -= len;
 			} else {
-				// ûи
+				// 没有负数
 			}
 			if (vl != null) {
 				labelList.add(vl);
@@ -493,7 +493,7 @@ public class DrawColStacked3DObj extends DrawBase {
 					1.00F));
 		}
 
-		// ʾֵ
+		// 在柱顶显示数值
 		if (gp.dispStackSumValue && vis) {
 			double val = db.getScaledValue(egc.getPositiveSumSeries(), true);
 			String sval;
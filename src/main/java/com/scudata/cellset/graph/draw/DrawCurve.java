@@ -11,7 +11,7 @@ import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 
 /**
- * ͼʵ
+ * 曲线图实现
  * 
  * @author Joancy
  *
@@ -19,19 +19,19 @@ import com.scudata.chart.Utils;
 
 public class DrawCurve extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
 	 * 
 	 * @param db
-	 *            Ļͼ
+	 *            抽象的绘图基类
 	 * @param htmlLink
-	 *            ӻ
+	 *            超链接缓存
 	 */
 	public static void drawing(DrawBase db, StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -99,9 +99,9 @@ public class DrawCurve extends DrawBase {
 		gp.gRect2.width -= coorWidth;
 		gp.gRect2.height -= coorWidth;
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
 			Number coory = (Number) gp.coorValue.get(i);
@@ -110,15 +110,15 @@ public class DrawCurve extends DrawBase {
 			x = gp.gRect1.x - gp.tickLen;
 			y =  (gp.gRect1.y + gp.gRect1.height - i * dely);
 			gp.GFV_YLABEL.outText(x, y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.y + gp.gRect1.height - i
 						* dely);
 			}
 		}
-		// 
+		// 画警戒线
 		db.drawWarnLine();
-		/* X */
+		/* 画X轴 */
 		beginPoint = new Point2D.Double[gp.serNum];
 		beginVal = new double[gp.serNum];
 		catPoints = new ArrayList[gp.serNum];
@@ -134,14 +134,14 @@ public class DrawCurve extends DrawBase {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double posx = DrawLine.getPosX(gp, i, cc, categorySpan, seriesWidth);
 
-			boolean valvis = (i % (gp.graphXInterval + 1) == 0);// ǷʾֵTableֿ
+			boolean valvis = (i % (gp.graphXInterval + 1) == 0);// 柱顶是否显示值跟画Table分开
 			boolean vis = valvis && !gp.isDrawTable;
 			if (vis) {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
 				Utils.setStroke(g, c, Consts.LINE_SOLID, 1.0f);
 				db.drawLine(posx, gp.gRect1.y + gp.gRect1.height, posx,
 						gp.gRect1.y + gp.gRect1.height + gp.tickLen, c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(posx);
 			}
 
@@ -166,7 +166,7 @@ public class DrawCurve extends DrawBase {
 					endPoint = new Point2D.Double(posx, gp.valueBaseLine - len);
 				}
 
-				// 
+				// 输出文字
 				if (gp.dispValueOntop && !egs.isNull() && valvis) {
 					String sval = db.getDispValue(egc, egs, gp.serNum); // getFormattedValue(val);
 					x = endPoint.x;
@@ -199,7 +199,7 @@ public class DrawCurve extends DrawBase {
 					pointList.add(vp);
 					db.htmlLink(xx, yy, ww, hh, htmlLink, egc.getNameString(),
 							egs);
-				} // ϵС
+				} // 线条上的小方块
 				if (i > 0) {
 					g.setColor(db.getColor(j));
 					DrawLine.drawVTrendLine(db, beginPoint[j], endPoint, val
@@ -302,7 +302,7 @@ public class DrawCurve extends DrawBase {
 
 		db.outPoints();
 		db.outLabels();
-		/* ػһ» */
+		/* 重画一下基线 */
 		g.setStroke(new BasicStroke());
 		db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x
 				+ gp.gRect1.width, gp.valueBaseLine,
@@ -314,13 +314,13 @@ public class DrawCurve extends DrawBase {
 	}
 
 	/**
-	 * ղֵ㷨
+	 * 拉格朗日插值算法
 	 * 
 	 * @param points
-	 *            ArrayListе
+	 *            ArrayList，所有点
 	 * @param deltaX
-	 *            int ֵX
-	 * @return intֵպY
+	 *            int， 插值的X
+	 * @return int，插值朗日后的Y
 	 */
 	private static double Lagrange(ArrayList<Point2D.Double> points, double deltaX) {
 		double sum = 0;
@@ -479,7 +479,7 @@ public class DrawCurve extends DrawBase {
 		return Math.abs(d);
 	}
 
-	// ֵ
+	// 三次样条函数插值
 	private static double sample(double[] x, double[] y, double tx) {
 		int n = x.length, m;
 		double dy[], ddy[], t[], z[], dz[], ddz[];
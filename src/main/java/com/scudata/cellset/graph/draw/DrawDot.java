@@ -9,23 +9,23 @@ import com.scudata.cellset.graph.*;
 import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 /**
- * ͼͼʵ
+ * 点图，气泡图实现
  * @author Joancy
  *
  */
 
 public class DrawDot extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -90,9 +90,9 @@ public class DrawDot extends DrawBase {
 		gp.gRect2.width -= coorWidth;
 		gp.gRect2.height -= coorWidth;
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
 
@@ -102,15 +102,15 @@ public class DrawDot extends DrawBase {
 			y =  (gp.gRect1.y + gp.gRect1.height - i * dely);// + TR.height
 																	// / 2
 			gp.GFV_YLABEL.outText(x, y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue) {
 				gp.valueBaseLine =  (gp.gRect1.y + gp.gRect1.height - i
 						* dely);
 			}
 		}
-		// 
+		// 画警戒线
 		db.drawWarnLine();
-		/* X */
+		/* 画X轴 */
 		prePoints1 = new Point2D.Double[gp.serNum];
 		prePoints2 = new Point2D.Double[gp.serNum];
 		ArrayList cats = egp.categories;
@@ -120,7 +120,7 @@ public class DrawDot extends DrawBase {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double delx =  ((i + 1) * categorySpan + i * seriesWidth
 					* gp.serNum + seriesWidth * gp.serNum / 2.0);
-			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//ǷʾֵTableֿ
+			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//柱顶是否显示值跟画Table分开
 			boolean vis = valvis && !gp.isDrawTable;
 			if (vis) {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
@@ -128,7 +128,7 @@ public class DrawDot extends DrawBase {
 				db.drawLine(gp.gRect1.x + delx, gp.gRect1.y + gp.gRect1.height,
 						gp.gRect1.x + delx, gp.gRect1.y + gp.gRect1.height
 								+ gp.tickLen,c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(gp.gRect1.x + delx);
 			}
 
@@ -155,7 +155,7 @@ public class DrawDot extends DrawBase {
 				Point2D.Double pt1 = new Point2D.Double( (lb), gp.valueBaseLine - len);
 				Point2D.Double pt2 = new Point2D.Double( (lb + coorWidth),
 						 (gp.valueBaseLine - len - coorWidth));
-				// ʾֵʾ
+				// 显示值标示
 				if (gp.dispValueOntop && !egs.isNull() && valvis) {
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					x = pt1.x;
@@ -170,7 +170,7 @@ public class DrawDot extends DrawBase {
 					labelList.add(vl);
 				}
 				
-				if (gp.coorWidth == 0) { // ϵС
+				if (gp.coorWidth == 0) { // 线条上的小方块
 					Color backColor,foreColor;
 					if (!gp.isMultiSeries) {
 						backColor = db.getColor(i);
@@ -195,7 +195,7 @@ public class DrawDot extends DrawBase {
 			}
 		}
 		db.outLabels();
-		/* ػһ» */
+		/* 重画一下基线 */
 		db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x + gp.gRect1.width,
 				gp.valueBaseLine, egp.getAxisColor(GraphProperty.AXIS_BOTTOM));
 		db.drawLine(gp.gRect1.x + gp.gRect1.width, gp.valueBaseLine,
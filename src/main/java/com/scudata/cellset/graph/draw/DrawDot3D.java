@@ -10,23 +10,23 @@ import com.scudata.chart.ChartColor;
 import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 /**
- * άͼʵ
+ * 三维点图实现
  * @author Joancy
  *
  */
 
 public class DrawDot3D extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -100,10 +100,10 @@ public class DrawDot3D extends DrawBase {
 		gp.gRect2.y =  (gp.gRect1.y - coorWidth);
 		gp.gRect2.height = gp.gRect1.height;
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
 		Point2D.Double p;
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
 
@@ -112,13 +112,13 @@ public class DrawDot3D extends DrawBase {
 
 			p = db.getVTickPoint(i*dely);
 			gp.GFV_YLABEL.outText(p.x-gp.tickLen, p.y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.y + gp.gRect1.height - i
 						* dely);
 			}
 		}
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 		if (gp.graphTransparent) {
 			g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
@@ -128,7 +128,7 @@ public class DrawDot3D extends DrawBase {
 		int cc = cats.size();
 		Color c;
 		
-//		xǩԼ
+//		画x标签以及坐标线
 		for (int i = 0; i < cc; i++) {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double delx = (i + 1) * categorySpan + i * seriesWidth + seriesWidth / 2.0;
@@ -146,7 +146,7 @@ public class DrawDot3D extends DrawBase {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
 				Utils.setStroke(g, c, Consts.LINE_SOLID, 1.0f);
 				db.drawLine(p.x,p.y,p.x,p.y+gp.tickLen,c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(gp.gRect2.x + delx);
 			}
 			String value = egc.getNameString();
@@ -154,14 +154,14 @@ public class DrawDot3D extends DrawBase {
 			
 		}
 		
-		/*  */
+		/* 画负数点 */
 		 drawDot(cc,cats,categorySpan,seriesWidth,
 					g,gp, coorWidth, dely, seriesSpan,
 					seriesDeep, db, labelList,false,htmlLink);		
 		
-//		ƽ治͸Ӧסֵ
+//		负数的数据先输出，如果下述平面不透明，就应盖住负数的柱顶值
 		db.outLabels();
-		// ƻ͸ƽ棬
+		// 绘制基线透明平面，
 		if (gp.valueBaseLine != gp.gRect1.y + gp.gRect1.height) {
 			double xx[] = { gp.gRect1.x,  (gp.gRect1.x + coorWidth),
 					 (gp.gRect1.x + gp.gRect1.width + coorWidth),
@@ -172,7 +172,7 @@ public class DrawDot3D extends DrawBase {
 			Shape poly = Utils.newPolygon2D(xx, yy);
 
 			Color ccc = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
-			if (ccc == null) {// ױΪ͸ɫʱʹȱʡ
+			if (ccc == null) {// 如果底边为透明色时，使用缺省灰
 				ccc = Color.lightGray;
 			}
 			float trans = 1.0f;
@@ -183,7 +183,7 @@ public class DrawDot3D extends DrawBase {
 			Utils.fill(g, poly, trans, ccc);
 		}
 
-		/*  */
+		/* 画正数点 */
 		 drawDot(cc,cats,categorySpan,seriesWidth,
 					g,gp, coorWidth, dely, seriesSpan,
 					seriesDeep, db, labelList,true,htmlLink);		
@@ -193,7 +193,7 @@ public class DrawDot3D extends DrawBase {
 					1.00F));
 		}
 		db.outLabels();
-		/* һ» */
+		/* 画一下基线 */
 		if (gp.valueBaseLine != gp.gRect1.y + gp.gRect1.height) {
 			db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x
 					+ gp.gRect1.width, gp.valueBaseLine,
@@ -208,7 +208,7 @@ public class DrawDot3D extends DrawBase {
 	private static void drawDot(int cc,ArrayList cats,double categorySpan,double seriesWidth,
 			Graphics2D g,GraphParam gp,double coorWidth,double dely,double seriesSpan,
 			double seriesDeep,DrawBase db,ArrayList<ValueLabel> labelList,boolean drawPositive,StringBuffer htmlLink){
-		/*  */
+		/* 画正数数柱子 */
 		for (int i = 0; i < cc; i++) {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			boolean vis = (i % (gp.graphXInterval + 1) == 0);
@@ -256,7 +256,7 @@ public class DrawDot3D extends DrawBase {
 				}
 
 				
-				// ֣ᱻͼθ
+				// 最后输出文字，否则会被图形覆盖
 				if (gp.dispValueOntop && !egs.isNull() && vis) {
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					double x = lb + br +  seriesWidth / 2;// - TR.width / 2;
@@ -9,23 +9,23 @@ import com.scudata.cellset.graph.*;
 import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 /**
- * ͼʵ
+ * 折线图实现
  * @author Joancy
  *
  */
 
 public class DrawLine extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db, StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -93,9 +93,9 @@ public class DrawLine extends DrawBase {
 		gp.gRect2.width -= coorWidth;
 		gp.gRect2.height -= coorWidth;
 
-		/*  */
+		/* 画坐标轴 */
 		db.drawGraphRect();
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
 			Number coory = (Number) gp.coorValue.get(i);
@@ -104,16 +104,16 @@ public class DrawLine extends DrawBase {
 			x = gp.gRect1.x - gp.tickLen;
 			y =  (gp.gRect1.y + gp.gRect1.height - i * dely); 
 			gp.GFV_YLABEL.outText(x, y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.y + gp.gRect1.height - i
 						* dely);
 			}
 		}
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 
-		/* X */
+		/* 画X轴 */
 		beginPoint = new Point2D.Double[gp.serNum];
 		lastPoint = new Point2D.Double[gp.serNum];
 		beginVal = new double[gp.serNum];
@@ -124,7 +124,7 @@ public class DrawLine extends DrawBase {
 			ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 			double posx = getPosX(gp,i,cc,categorySpan,seriesWidth);
 			
-			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//ǷʾֵTableֿ
+			boolean valvis = (i % (gp.graphXInterval + 1) == 0);//柱顶是否显示值跟画Table分开
 			boolean vis = valvis && !gp.isDrawTable;
 			if (vis) {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
@@ -132,7 +132,7 @@ public class DrawLine extends DrawBase {
 				db.drawLine(posx, gp.gRect1.y + gp.gRect1.height,
 						    posx, gp.gRect1.y + gp.gRect1.height
 								+ gp.tickLen, c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(posx);
 			}
 
@@ -158,7 +158,7 @@ public class DrawLine extends DrawBase {
 					endPoint = new Point2D.Double(posx, gp.valueBaseLine - len);
 				}
 
-				// 
+				// 输出文字
 				if (gp.dispValueOntop && !egs.isNull() && valvis) {
 					String sval = db.getDispValue(egc, egs, gp.serNum);
 					x = endPoint.x;
@@ -191,7 +191,7 @@ public class DrawLine extends DrawBase {
 					pointList.add(vp);
 					db.htmlLink(xx, yy, ww, hh, htmlLink, egc.getNameString(),
 							egs);
-				} // ϵС
+				} // 线条上的小方块
 
 				if (i > 0) {
 					g.setColor(db.getColor(j));
@@ -212,11 +212,11 @@ public class DrawLine extends DrawBase {
 			}
 		}
 
-		// ֵǩö
+		// 最后输出值标签，文字置顶
 		db.outPoints();
 		db.outLabels();
 
-		/* ػһ» */
+		/* 重画一下基线 */
 		db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x
 				+ gp.gRect1.width, gp.valueBaseLine,
 				egp.getAxisColor(GraphProperty.AXIS_BOTTOM));
@@ -227,12 +227,12 @@ public class DrawLine extends DrawBase {
 	}
 	
 	/**
-	 * ԭغʱðշۼӣֱƽռ
-	 * @param gp ͼ
-	 * @param i 
+	 * 原点重合时，不用按照分类累加，直接用平均空间
+	 * @param gp 绘图属性
+	 * @param i 序号
 	 * @param cc 
-	 * @param categorySpan 
-	 * @param seriesWidth ϵм
+	 * @param categorySpan 分类间距
+	 * @param seriesWidth 系列间距
 	 * @return
 	 */
 	public static double getPosX(GraphParam gp,int i,int cc,double categorySpan,double seriesWidth){
@@ -249,9 +249,9 @@ public class DrawLine extends DrawBase {
 	}
 
 	/**
-	 * 
-	 * @param db ͼʵ
-	 * @param p 
+	 * 画横向趋势线
+	 * @param db 绘图实例
+	 * @param p 坐标点
 	 */
 	public static void drawHTrendLine(DrawBase db, Point2D.Double p) {
 		if (p == null || !db.gp.drawLineTrend) {
@@ -265,11 +265,11 @@ public class DrawLine extends DrawBase {
 	}
 
 	/**
-	 * 
-	 * @param db ͼʵ
-	 * @param begin 
-	 * @param end յ
-	 * @param cha 
+	 * 画纵向趋势线
+	 * @param db 绘图实例
+	 * @param begin 起点
+	 * @param end 终点
+	 * @param cha 差
 	 */
 	public static void drawVTrendLine(DrawBase db, Point2D.Double begin, Point2D.Double end,
 			double cha) {
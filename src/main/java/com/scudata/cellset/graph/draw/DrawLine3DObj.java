@@ -10,22 +10,22 @@ import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 
 /**
- * άͼʵ
+ * 三维折线图实现
  * @author Joancy
  *
  */
 public class DrawLine3DObj extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -95,7 +95,7 @@ public class DrawLine3DObj extends DrawBase {
 
 		db.drawGraphRect();
 		Point2D.Double p;
-		/* Y */
+		/* 画Y轴 */
 		for (int i = 0; i <= gp.tickNum; i++) {
 			db.drawGridLine(dely, i);
 			Number coory = (Number) gp.coorValue.get(i);
@@ -103,20 +103,20 @@ public class DrawLine3DObj extends DrawBase {
 
 			p = db.getVTickPoint(i*dely);
 			gp.GFV_YLABEL.outText(p.x-gp.tickLen, p.y, scoory);
-			// û
+			// 设置基线
 			if (coory.doubleValue() == gp.baseValue + gp.minValue) {
 				gp.valueBaseLine =  (gp.gRect1.y + gp.gRect1.height - i
 						* dely);
 			}
 		}
-		// 
+		// 画警戒线
 		db.drawWarnLine();
 		if (gp.graphTransparent) {
 			g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
 					0.60F));
 		}
 
-		/* X */
+		/* 画X轴 */
 		prePoints1 = new Point2D.Double[gp.serNum];
 		prePoints2 = new Point2D.Double[gp.serNum];
 		lastPoint1 = new Point2D.Double[gp.serNum];
@@ -135,7 +135,7 @@ public class DrawLine3DObj extends DrawBase {
 				c = egp.getAxisColor(GraphProperty.AXIS_BOTTOM);
 				Utils.setStroke(g, c, Consts.LINE_SOLID, 1.0f);
 				db.drawLine(p.x,p.y,p.x,p.y+gp.tickLen,c);
-				// 
+				// 画背景虚线
 				db.drawGridLineCategoryV(gp.gRect2.x + delx);
 			}
 
@@ -189,7 +189,7 @@ public class DrawLine3DObj extends DrawBase {
 							egc.getNameString(), egs);
 				}
 
-				// 
+				// 输出文字
 				if (gp.dispValueOntop && !egs.isNull() && vis) {
 					String sval = db.getDispValue(egc,egs,gp.serNum);
 					x = pt2.x;
@@ -215,7 +215,7 @@ public class DrawLine3DObj extends DrawBase {
 
 		db.outPoints();
 		db.outLabels();
-		/* ػһ» */
+		/* 重画一下基线 */
 		if (gp.valueBaseLine != gp.gRect1.y + gp.gRect1.height) {
 			db.drawLine(gp.gRect1.x, gp.valueBaseLine, gp.gRect1.x
 					+ gp.gRect1.width, gp.valueBaseLine,
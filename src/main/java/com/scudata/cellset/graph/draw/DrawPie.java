@@ -11,23 +11,23 @@ import com.scudata.chart.Utils;
 import com.scudata.common.*;
 import com.scudata.resources.EngineMessage;
 /**
- * ͼʵ
+ * 饼图实现
  * @author Joancy
  *
  */
 
 public class DrawPie extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -108,17 +108,17 @@ public class DrawPie extends DrawBase {
 		double orgy = gp.graphRect.y + dely + (gp.graphRect.height - dely) / 2;
 		boolean cut = gp.serNum == 1 && egp.isCutPie();
 
-		/* ʼѭ */
+		/* 开始循环画饼 */
 		for (int j = 0; j < gp.serNum; j++) {
 			String serName = (String) gp.serNames.get(j);
 			double totAmount = 0.0;
 			double totAngle = 0;
-			/* ǰеİ뾶 */
+			/* 算出当前序列的半径 */
 			double radx = (gp.serNum - j) * radiusx;
 			double rady = (gp.serNum - j) * radiusy;
 			w = 2 * radx;
 			h = 2 * rady;
-			// ʱҪõһϵеİ뾶Σȷ״
+			// 超链接时需要得到下一系列的半径矩形，以确定环状链接坐标
 			double rxx = (gp.serNum - j - 1) * radiusx;
 			double ryy = (gp.serNum - j - 1) * radiusy;
 			double xx, yy;
@@ -126,16 +126,16 @@ public class DrawPie extends DrawBase {
 			double hh = 2 * ryy;
 
 			double max = 0;
-			double maxi = -1, maxX = 0, maxY = 0; // 
+			double maxi = -1, maxX = 0, maxY = 0; // 最大块饼的坐标
 			ExtGraphCategory maxEgc = null;
 			ExtGraphSery maxEgs = null;
 
 
-			double maxAngle = 0; // ıͼǶ
+			double maxAngle = 0; // 最大块所处的饼图角度
 
 			double movex = 0;
 			double movey = 0;
-			/* ܺ */
+			/* 先算出总和 */
 			ArrayList cats = egp.categories;
 			int cc = cats.size();
 			for (int i = 0; i < cc; i++) {
@@ -153,7 +153,7 @@ public class DrawPie extends DrawBase {
 				continue;
 			}
 
-			/* ,ȻӰ */
+			/* 逐项画扇形,先画阴影 */
 			totAngle = 0;
 			double cumulativeAmount = 0.0;
 			if (egp.isDrawShade()) {
@@ -167,7 +167,7 @@ public class DrawPie extends DrawBase {
 					angle = 360.0 * amount / totAmount;
 					if (i == gp.catNum - 1) {
 						angle = 360 - totAngle;
-						/* ǰгԲһλƣضԽ */
+						/* 如果当前扇区被切出，则圆心作一位移，沿对角线 */
 					}
 					if (cut && maxi == i) {
 						movex =  (20 * Math.cos(Math.toRadians(totAngle
@@ -190,7 +190,7 @@ public class DrawPie extends DrawBase {
 				}
 			}
 
-			/*  */
+			/* 逐项画扇形 */
 			totAngle = 0;
 			cumulativeAmount = 0.0;
 			for (int i = 0; i < cc; i++) {
@@ -204,7 +204,7 @@ public class DrawPie extends DrawBase {
 				angle = 360.0 * amount / totAmount;
 				if (i == gp.catNum - 1) {
 					angle = 360 - totAngle;
-					/* ǰгԲһλƣضԽ */
+					/* 如果当前扇区被切出，则圆心作一位移，沿对角线 */
 				}
 				if (cut && maxi == i) {
 					movex =  (20 * Math.cos(Math.toRadians(totAngle
@@ -248,7 +248,7 @@ public class DrawPie extends DrawBase {
 				totAngle += angle;
 			}
 
-			// 
+			// 输出文字
 			totAngle = 0;
 			for (int i = 0; i < cc; i++) {
 				ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
@@ -261,7 +261,7 @@ public class DrawPie extends DrawBase {
 				angle = 360.0 * amount / totAmount;
 				if (i == gp.catNum - 1) {
 					angle = 360 - totAngle;
-					/* ǰгԲһλƣضԽ */
+					/* 如果当前扇区被切出，则圆心作一位移，沿对角线 */
 				}
 				if (cut && maxi == i) {
 					movex =  (20 * Math.cos(Math.toRadians(totAngle
@@ -273,7 +273,7 @@ public class DrawPie extends DrawBase {
 					movey = 0;
 				}
 
-				if (gp.serNum == 1) { // ٷֱȱʶ
+				if (gp.serNum == 1) { // 画百分比标识
 					double tAngle = Math.toRadians(totAngle + angle / 2);
 					double x1 = orgx
 							+  Math.round((radx) * Math.cos(tAngle))
@@ -299,14 +299,14 @@ public class DrawPie extends DrawBase {
 
 					String fmt;
 					String text = "";
-					// ʾֵʾ
+					// 显示数值标示
 					double tmpAngle = totAngle + angle / 2;
 					db.g.setStroke(new BasicStroke());
 					switch (gp.dispValueType) {
-					case GraphProperty.DISPDATA_NONE: // ʾ
+					case GraphProperty.DISPDATA_NONE: // 不显示
 						text = "";
 						break;
-					case GraphProperty.DISPDATA_VALUE: // ʾֵ
+					case GraphProperty.DISPDATA_VALUE: // 显示数值
 					case GraphProperty.DISPDATA_NAME_VALUE:
 						if (StringUtils.isValidString(gp.dataMarkFormat)) {
 							fmt = gp.dataMarkFormat;
@@ -320,12 +320,12 @@ public class DrawPie extends DrawBase {
 							text = getDispName(egc,egs,gp.serNum)+","+text;
 						}						
 						break;
-					case GraphProperty.DISPDATA_TITLE: // 
+					case GraphProperty.DISPDATA_TITLE: // 标题
 						db.drawLine(x1, y1, x2, y2,
 								egp.getAxisColor(GraphProperty.AXIS_PIEJOIN));
 						text = egs.getTips();
 						break;
-					default: // ʾٷֱ
+					default: // 显示百分比
 						db.drawLine(x1, y1, x2, y2,
 								egp.getAxisColor(GraphProperty.AXIS_PIEJOIN));
 						if (i != maxi) {
@@ -359,7 +359,7 @@ public class DrawPie extends DrawBase {
 				totAngle += angle;
 			}
 
-			if (gp.serNum > 1) { // бʶ
+			if (gp.serNum > 1) { // 画序列标识
 				int angle = Math.round(360 / gp.serNum) * j;
 				double tAngle = Math.toRadians(angle);
 				g.setColor(gp.coorColor);
@@ -14,7 +14,7 @@ import com.scudata.common.StringUtils;
 import com.scudata.resources.EngineMessage;
 
 /**
- * άͼʵ
+ * 三维饼图实现
  * @author Joancy
  *
  */
@@ -23,16 +23,16 @@ public class DrawPie3DObj extends DrawBase {
 	private static int cutColorLevel = -2;
 	
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -109,7 +109,7 @@ public class DrawPie3DObj extends DrawBase {
 		double orgx = gp.graphRect.x + gp.graphRect.width / 2;
 		double orgy = gp.graphRect.y + dely + (gp.graphRect.height - dely) / 2;
 		boolean cut = gp.serNum == 1 && gp.catNum > 1 && egp.isCutPie();
-		/* ʼѭ */
+		/* 开始循环画饼 */
 		if (gp.graphTransparent) {
 			g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
 					0.60F));
@@ -120,11 +120,11 @@ public class DrawPie3DObj extends DrawBase {
 			String serName = (String) gp.serNames.get(z);
 			double totAmount = 0.0;
 			double totAngle = 0;
-			/* ǰеİ뾶 */
+			/* 算出当前序列的半径 */
 			double radx = (gp.serNum - z) * radiusx;
 			double rady = (gp.serNum - z) * radiusy;
 
-			// ʱҪõһϵеİ뾶Σȷ״
+			// 超链接时需要得到下一系列的半径矩形，以确定环状链接坐标
 			double rxx = (gp.serNum - z - 1) * radiusx;
 			double ryy = (gp.serNum - z - 1) * radiusy;
 			double xx, yy;
@@ -132,14 +132,14 @@ public class DrawPie3DObj extends DrawBase {
 			double hh = 2 * ryy;
 
 			double max = 0;
-			double maxi = -1, maxX = 0, maxY = 0; // ϢۼƵı
+			double maxi = -1, maxX = 0, maxY = 0; // 最大块饼的相关信息，误差累计到最大块的饼
 			double maxAngle = 0;
 			ExtGraphCategory maxEgc = null;
 			ExtGraphSery maxEgs = null;
 
 			double movex = 0;
 			double movey = 0;
-			/* ܺ */
+			/* 先算出总和 */
 			ArrayList cats = egp.categories;
 			int cc = cats.size();
 			for (int i = 0; i < cc; i++) {
@@ -157,7 +157,7 @@ public class DrawPie3DObj extends DrawBase {
 			if (totAmount == 0.0) {
 				continue;
 			}
-			/* Ȼ±ߵԲ */
+			/* 先画下边的圆 */
 			totAngle = 0;
 			for (int i = 0; i < cc; i++) {
 				ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
@@ -185,7 +185,7 @@ public class DrawPie3DObj extends DrawBase {
 						+ movey, 2 * radx, 2 * rady, totAngle, angle, Arc2D.PIE);
 				g.fill(tmpShape);
 				db.drawShape(tmpShape, bc);
-				// 󵲰
+				// 画后挡板
 				if (totAngle < 180) {
 					drawBackBaffle(db,totAngle, orgx, radx, movex, orgy, rady,
 							movey, dely, angle, i);
@@ -196,12 +196,12 @@ public class DrawPie3DObj extends DrawBase {
 			db.g.setStroke(new BasicStroke(1.0f));
 			db.drawShape(new Line2D.Double(orgx + radx, orgy - dely, orgx + radx,
 					orgy), tmpc);
-			// п
+			// 画切口
 			totAngle = 0;
 			double cumulativeAmount = 0.0;
 			double curveY = 0;
 			if (egp.isRaisedBorder()) {
-				curveY = dely / 5; // αߵƫ
+				curveY = dely / 5; // 刮边的偏移
 			}
 
 			for (int i = 0; i < cc; i++) {
@@ -248,7 +248,7 @@ public class DrawPie3DObj extends DrawBase {
 					ey2 = ddd.getEndPoint().getY();
 				}
 
-				if (cut && maxi == i) { // 
+				if (cut && maxi == i) { // 如果游离
 					if (bx1 > orgx + movex && ex1 >= orgx + movex
 							&& ey1 >= orgy + movey && by1 <= orgy + movey) {
 						drawCut2(db,bx1, by1, orgx, orgy, movex, movey, dely, i,
@@ -300,7 +300,7 @@ public class DrawPie3DObj extends DrawBase {
 					}
 				} else if (gp.graphTransparent
 						&& gp.catNum > 1
-						&& (!cut || (i != maxi - 1 && !(i == gp.catNum - 1 && maxi == 0)))) { // 
+						&& (!cut || (i != maxi - 1 && !(i == gp.catNum - 1 && maxi == 0)))) { // 如果不游离
 					if (ex1 > orgx + movex) {
 						drawCut4(db,ex1, ey1, orgx, orgy, movex, movey, dely, i,
 								ex2, ey2, curveY);
@@ -315,8 +315,8 @@ public class DrawPie3DObj extends DrawBase {
 				}
 			}
 
-			// 浲
-			totAngle = 0; // **************
+			// 画侧面挡板
+			totAngle = 0; // **************画扇形
 
 			Arc2D.Double topOval;
 			Color bc = egp.getAxisColor(GraphProperty.AXIS_COLBORDER);
@@ -341,7 +341,7 @@ public class DrawPie3DObj extends DrawBase {
 					movey = 0;
 				}
 
-				// ǰ
+				// 画前档板
 				if (totAngle + angle > 180) {
 					drawFrontBaffle(db,totAngle, orgx, radx, movex, orgy, rady,
 							movey, dely, angle, i, false);
@@ -351,11 +351,11 @@ public class DrawPie3DObj extends DrawBase {
 				if (egp.isRaisedBorder()) {
 					if (totAngle + angle > 150 || totAngle == 0
 							|| totAngle + angle < 45) {
-						// αߵǰ
+						// 画刮边的前档板
 						drawFrontBaffle(db,totAngle, orgx, radx, movex, orgy
 								- dely, rady, movey, curveY / 2, angle, i, true);
 					}
-					// ԰
+					// 画上面的园
 					topOval = new Arc2D.Double(
 							orgx - radx + movex + curveY / 2, orgy - rady
 									- dely + movey, 2 * radx - curveY, 2 * rady
@@ -365,7 +365,7 @@ public class DrawPie3DObj extends DrawBase {
 					topOval = new Arc2D.Double(orgx - radx + movex, orgy - rady
 							- dely + movey, 2 * radx, 2 * rady, totAngle,
 							angle, Arc2D.PIE);
-					// ԰
+					// 画上面的园
 				}
 
 				Utils.drawCylinderTop(g, topOval, bc, bs, bw, db.getTransparent(),
@@ -392,7 +392,7 @@ public class DrawPie3DObj extends DrawBase {
 					tmpShape = new Arc2D.Double(orgx - radx + movex + curveY
 							/ 2, orgy - rady - dely + movey, 2 * radx - curveY,
 							2 * rady - curveY, totAngle, angle, Arc2D.OPEN);
-					db.drawShape(tmpShape, bc);// ⣬߿ɫԼǷΪOPEN
+					db.drawShape(tmpShape, bc);// 可能有问题，边框颜色以及是否为OPEN
 				} else {
 					if (gp.catNum > 1) {
 						tmpShape = new Line2D.Double(orgx + movex, orgy - dely
@@ -418,7 +418,7 @@ public class DrawPie3DObj extends DrawBase {
 				totAngle += angle;
 			}
 
-			totAngle = 0; //
+			totAngle = 0; //最后输出文字
 			for (int i = 0; i < cc; i++) {
 				ExtGraphCategory egc = (ExtGraphCategory) cats.get(i);
 				ExtGraphSery egs = egc.getExtGraphSery(serName);
@@ -433,8 +433,8 @@ public class DrawPie3DObj extends DrawBase {
 							totAngle + angle / 2);
 					movey = getDyOnAngle(radiusx, radiusy, dely * 0.67f,
 							totAngle + angle / 2);
-					// ػһΣԷ˸ס
-					// ǰ
+					// 最大块最后重绘一次，以防被别人盖住
+					// 画前档板
 					if (totAngle + angle > 180) {
 						drawFrontBaffle(db,totAngle, orgx, radx, movex, orgy,
 								rady, movey, dely, angle, i, false);
@@ -443,12 +443,12 @@ public class DrawPie3DObj extends DrawBase {
 					if (egp.isRaisedBorder()) {
 						if (totAngle + angle > 150 || totAngle == 0
 								|| totAngle + angle < 45) {
-							// αߵǰ
+							// 画刮边的前档板
 							drawFrontBaffle(db,totAngle, orgx, radx, movex, orgy
 									- dely, rady, movey, curveY / 2, angle, i,
 									true);
 						}
-						// ԰
+						// 画上面的园
 						topOval = new Arc2D.Double(orgx - radx + movex + curveY
 								/ 2, orgy - rady - dely + movey, 2 * radx
 								- curveY, 2 * rady - curveY, totAngle, angle,
@@ -457,7 +457,7 @@ public class DrawPie3DObj extends DrawBase {
 						topOval = new Arc2D.Double(orgx - radx + movex, orgy
 								- rady - dely + movey, 2 * radx, 2 * rady,
 								totAngle, angle, Arc2D.PIE);
-						// ԰
+						// 画上面的园
 					}
 
 					Color c = db.getColor(i);
@@ -469,7 +469,7 @@ public class DrawPie3DObj extends DrawBase {
 					movey = 0;
 				}
 
-				if (gp.serNum == 1) { // ٷֱȱʶ
+				if (gp.serNum == 1) { // 画百分比标识
 					double dLen = radx;
 					if(egp.isRaisedBorder()){
 						dLen = radx-5;
@@ -502,7 +502,7 @@ public class DrawPie3DObj extends DrawBase {
 					String fmt;
 					String text = "";
 					double tmpAngle = (totAngle + angle / 2); // 360 -
-					// ʾֵʾ
+					// 显示数值标示
 					switch (gp.dispValueType) {
 					case GraphProperty.DISPDATA_NONE:
 						text = "";
@@ -523,7 +523,7 @@ public class DrawPie3DObj extends DrawBase {
 							text = getDispName(egc,egs,gp.serNum)+","+text;
 						}
 						break;
-					case GraphProperty.DISPDATA_TITLE: // 
+					case GraphProperty.DISPDATA_TITLE: // 标题
 						tmpc = egp.getAxisColor(GraphProperty.AXIS_PIEJOIN);
 						tmpShape = new Line2D.Double(x1, y1, x2, y2);
 						db.g.setStroke(new BasicStroke(1.0f));
@@ -567,7 +567,7 @@ public class DrawPie3DObj extends DrawBase {
 				totAngle += angle;
 			}
 
-			/* 1ϵеʱֻע */
+			/* 多于1个系列的时候，只标注分类的名称 */
 			if (gp.serNum > 1) {
 				int angle = Math.round(360 / gp.serNum) * z;
 				g.setColor(gp.coorColor);
@@ -590,7 +590,7 @@ public class DrawPie3DObj extends DrawBase {
 				db.drawOutCircleText(gp.GFV_XLABEL, serName, angle,  x2,
 						 y2);
 			} else {
-				// ѭֵ
+				// 循环画完饼后再输出最大块的数值
 				if (gp.dispValueType == GraphProperty.DISPDATA_PERCENTAGE
 						|| gp.dispValueType == GraphProperty.DISPDATA_NAME_PERCENTAGE) {
 					String fmt;
@@ -615,17 +615,17 @@ public class DrawPie3DObj extends DrawBase {
 	}
 
 	/**
-	 * ڽǶangleϣԭ㳤Ϊlenxƫ
+	 * 算出在角度angle方向上，距离原点长度为len的x坐标偏移量
 	 * 
 	 * @param radx
-	 *            intx뾶
+	 *            int，x向半径
 	 * @param rady
-	 *            inty뾶
+	 *            int，y向半径
 	 * @param len
-	 *            int
+	 *            int，长度
 	 * @param angle
-	 *            intǶ
-	 * @return intƫֵ
+	 *            int，角度
+	 * @return int，偏移值
 	 */
 	private static double getDxOnAngle(double radx, double rady, double len,
 			double angle) {
@@ -639,7 +639,7 @@ public class DrawPie3DObj extends DrawBase {
 
 	public ChartColor getChartColor(Color c) {
 		ChartColor cc = new ChartColor(c);
-		if (isGradientColor(egp)) {// ǽɫΪChartColorģʽ
+		if (isGradientColor(egp)) {// 如果是渐变色，设置为ChartColor的炫模式
 			cc.setColor1(c);
 			cc.setColor2(c);
 			cc.setGradient(true);
@@ -649,8 +649,8 @@ public class DrawPie3DObj extends DrawBase {
 		return cc;
 	}
 
-	// ͹ĬϽֹɫУ
-	// ͼ⴦Ϊ䣬Ϊ
+	// 由于凸边默认禁止跟渐变色都有，
+	// 饼图特殊处理为都渐变，为了美观
 	private static boolean isGradientColor(ExtGraphProperty egp) {
 		return (egp.isRaisedBorder() && egp.getImageFormat() != GraphProperty.IMAGE_GIF)
 				|| egp.isGradientColor();
@@ -660,7 +660,7 @@ public class DrawPie3DObj extends DrawBase {
 		return Utils.newPolygon2DShape(x, y);
 	}
 
-	// isCurve:Ƿϱ
+	// isCurve:是否刮上边
 	private static void drawFrontBaffle(DrawBase db,double totAngle, double orgx, double radx,
 			double movex, double orgy, double rady, double movey, double dely,
 			double angle, int i, boolean isCurve) {
@@ -727,7 +727,7 @@ public class DrawPie3DObj extends DrawBase {
 
 		Color c = db.getColor(i);
 		ChartColor chartColor = db.getChartColor(c);
-		if( !chartColor.isGradient() ){//ǽɫһɫ
+		if( !chartColor.isGradient() ){//如果不是渐变色，柱面用深一点的颜色
 			c=new CubeColor(c).getF2();
 			chartColor = db.getChartColor(c);
 		}
@@ -736,13 +736,13 @@ public class DrawPie3DObj extends DrawBase {
 		int bs = Consts.LINE_SOLID;
 		float bw = 1.0f;
 		if (bc == null)
-			bw = 0;// ͸ɫ߿򣬵UtilsbcΪnullʾǰɫ
+			bw = 0;// 透明色不画边框，但是Utils中bc为null表示当前颜色
 		Utils.drawCylinderFront(g, area, bc, bs, bw, db.getTransparent(),
 				chartColor, true, shinningRange, isCurve);
 	}
 
 	/**
-	 * 󵲰
+	 * 画后挡板
 	 * */
 	private static void drawBackBaffle(DrawBase db,double totAngle, double orgx, double radx,
 			double movex, double orgy, double rady, double movey, double dely,
@@ -776,10 +776,10 @@ public class DrawPie3DObj extends DrawBase {
 		double pty2[] = { orgy + movey - dely, by1 - dely, ey1 - dely, };
 		// Polygon pp2 = new Polygon(ptx2, pty2, 3);
 		Shape pp2 = getPath2DShape(ptx2, pty2);
-		Area area = new Area(ddd); // 
-		Area area1 = new Area(ddd1); // 
-		Area area2 = new Area(pp1); // ı
-		Area area3 = new Area(pp2); // 
+		Area area = new Area(ddd); // 下面的扇形
+		Area area1 = new Area(ddd1); // 上面的扇形
+		Area area2 = new Area(pp1); // 四边形
+		Area area3 = new Area(pp2); // 上面的三角形
 		area1.subtract(area3);
 		area1.add(area);
 		area1.add(area2);
@@ -815,7 +815,7 @@ public class DrawPie3DObj extends DrawBase {
 			c = db.getColor(i - 1);
 		}
 		CubeColor ccr = new CubeColor(c);
-		g.setColor(ccr.getRelativeDarker("F2", cutColorLevel));// F2һɫ
+		g.setColor(ccr.getRelativeDarker("F2", cutColorLevel));// 比F2暗一级的颜色
 		Shape s = getPath2DShape(ptx1, pty1);
 		g.fill(s);
 		db.drawShape(s, bc);
@@ -9,22 +9,22 @@ import com.scudata.chart.Consts;
 import com.scudata.chart.Utils;
 
 /**
- * ״ͼʵ
+ * 雷达图实现
  * @author Joancy
  *
  */
 public class DrawRadar extends DrawBase {
 	/**
-	 * ʵֻͼ
+	 * 实现绘图功能
 	 */
 	public void draw(StringBuffer htmlLink) {
 		drawing(this, htmlLink);
 	}
 
 	/**
-	 * ݻͼdbͼͼĳӴhtmlLink
-	 * @param db Ļͼ
-	 * @param htmlLink ӻ
+	 * 根据绘图基类db绘图，并将画图后的超链接存入htmlLink
+	 * @param db 抽象的绘图基类
+	 * @param htmlLink 超链接缓存
 	 */
 	public static void drawing(DrawBase db,StringBuffer htmlLink) {
 		GraphParam gp = db.gp;
@@ -68,7 +68,7 @@ public class DrawRadar extends DrawBase {
 
 		Color backColor = gp.graphBackColor;
 		Color foreColor = egp.getAxisColor(GraphProperty.AXIS_TOP);
-		int style = Consts.LINE_NONE;//draw2DPieǱͼ߿ʱԲĵ뾶ıߣﲻƱ߿
+		int style = Consts.LINE_NONE;//draw2DPie画的是饼图，画边框时会包含圆心到半径的边，这里不绘制边框
 		float weight = (float)thick;
 		Rectangle2D ellipseBounds = new Rectangle2D.Double(cx - r,cy - r, 2*r, 2*r);
 		double startAngle =0,extentAngle = 360;
@@ -79,7 +79,7 @@ public class DrawRadar extends DrawBase {
 		g.setStroke(new BasicStroke(weight));
 		db.drawShape(a2dd, foreColor);
 
-		/*  */
+		/* 坐标轴 */
 		tmpInt = gp.catNum;
 		double deltaAngle = 360 * 1.0f / tmpInt;
 		ArrayList cats = egp.categories;
@@ -98,7 +98,7 @@ public class DrawRadar extends DrawBase {
 			db.drawOutCircleText(gp.GFV_XLABEL, cat, angle,  x2,  y2);
 		}
 
-		/* ̶, */
+		/* 刻度,网格线 */
 		double deltaR, dr;
 		deltaR = r / gp.tickNum;
 
@@ -125,7 +125,7 @@ public class DrawRadar extends DrawBase {
 			gp.GFV_YLABEL.outText( x,  y, scoory);
 		}
 
-		//ֵ
+		//值输出
 		Point2D.Double prePoints[] = new Point2D.Double[gp.serNum];
 		Point2D.Double lastPoint[] = new Point2D.Double[gp.serNum];
 		Point2D.Double startPoints[] = new Point2D.Double[gp.serNum];
@@ -8,7 +8,7 @@ import java.awt.FontMetrics;
 import java.lang.Character;
 
 /**
- * Ϊ˲ϲ࣬ȫ̸StringUtils2DrawBaseݱʹ
+ * 为了不引用上层类，该类全盘复制StringUtils2，供DrawBase画数据表使用
  * @author Joancy
  *
  */
@@ -17,9 +17,9 @@ public class DrawStringUtils2 {
 			'8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
 
 	/**
-	 * жsǷΪմ
-	 * @param s ַ
-	 * @return Ƿtrue򷵻false
+	 * 判断s是否为空串
+	 * @param s 字符串
+	 * @return 如果是返回true，否则返回false
 	 */
 	public final static boolean isSpaceString(String s) {
 		if (s == null) {
@@ -35,12 +35,12 @@ public class DrawStringUtils2 {
 	}
 
 	/**
-	 * һеָֽת16ƴ
+	 * 将一个长整数中的指定字节数转化成16进制串
 	 * 
 	 * @param l
-	 *            
+	 *            长整数
 	 * @param byteNum
-	 *            еĵֽ(ֽڸ)
+	 *            长整数中的低字节数(即从右往左的字节个数)
 	 */
 	public final static String toHexString(long l, int byteNum) {
 		StringBuffer sb = new StringBuffer(16);
@@ -49,14 +49,14 @@ public class DrawStringUtils2 {
 	}
 
 	/**
-	 * һеָֽת16ƴӵַ
+	 * 将一个长整数中的指定字节数转化成16进制串，并增加到字符串缓冲区中
 	 * 
 	 * @param sb
-	 *            ַ
+	 *            字符串缓冲区
 	 * @param l
-	 *            
+	 *            长整数
 	 * @param byteNum
-	 *            еĵֽ(ֽڸ)
+	 *            长整数中的低字节数(即从右往左的字节个数)
 	 */
 	public final static void appendHexString(StringBuffer sb, long l,
 			int byteNum) {
@@ -67,13 +67,13 @@ public class DrawStringUtils2 {
 	}
 
 	/**
-	 * ַunicodeַתΪ&#92;uxxxxʽ'\\','\t','\n','\r','\f'
-	 * specialCharsκַǰ\
+	 * 将字符串中unicode字符转换为&#92;uxxxx形式，并对'\\','\t','\n','\r','\f'进行
+	 * 处理，还对specialChars中任何字符加前导\
 	 * 
-	 * @params s Ҫַ
-	 * @params sb ׷ӴĻ
-	 * @params specialChars Ҫǰ\رַ
-	 * @return sb!=null򷵻sb򷵻׷˴StringBuffer
+	 * @params s 需要处理的字符串
+	 * @params sb 追加处理结果的缓冲区
+	 * @params specialChars 需要加前导\的特别字符串
+	 * @return 若sb!=null则返回sb，否则返回追加了处理结果的新StringBuffer
 	 */
 	public final static StringBuffer deunicode(String s, StringBuffer sb,
 			String specialChars) {
@@ -131,11 +131,11 @@ public class DrawStringUtils2 {
 	}
 
 	/**
-	 * ÿǲո񣬽ıտwضΪı
-	 * @param text ı
-	 * @param fm Ϣ
-	 * @param w 
-	 * @return ضϺĶı
+	 * 不用考虑插空格，将给定文本按照宽度w截断为多行文本
+	 * @param text 文本串
+	 * @param fm 字体信息
+	 * @param w 宽度
+	 * @return 截断后的多行文本
 	 */
 	public static ArrayList<String> wrapString2(String text, FontMetrics fm, float w) {
 		ArrayList<String> al = wrapString(text, fm, w, false);
@@ -146,13 +146,13 @@ public class DrawStringUtils2 {
 	}
 
 	/**
-	 * ָıضΪı
-	 * @param text ı
-	 * @param fm 
-	 * @param w 
-	 * @param wrapChar ܷضϵ
-	 * @param align 뷽ʽ
-	 * @return ضϺĶı
+	 * 根据指定参数将文本截断为多行文本
+	 * @param text 文本
+	 * @param fm 字体
+	 * @param w 宽度
+	 * @param wrapChar 能否截断单词
+	 * @param align 对齐方式
+	 * @return 截断后的多行文本
 	 */
 	public static ArrayList<String> wrapString(String text, FontMetrics fm, float w,
 			boolean wrapChar, byte align) {
@@ -176,10 +176,10 @@ public class DrawStringUtils2 {
 
 
 	/**
-	 * зİտȷɢ
-	 * @param al ı
-	 * @param fm Ϣ
-	 * @param w 
+	 * 将多行分文按照宽度分散对齐
+	 * @param al 多行文本
+	 * @param fm 字体信息
+	 * @param w 宽度
 	 */
 	public static void scatter(ArrayList al, FontMetrics fm, float w) {
 		String line = rightTrim(String.valueOf((String) al.get(al.size() - 1)));
@@ -188,23 +188,23 @@ public class DrawStringUtils2 {
 	}
 	
 	/**
-	 * һıɢ
-	 * @param src Դı
-	 * @param fm Ϣ
-	 * @param w 
-	 * @return ÿոɢ˺ַ
+	 * 将一行文本分散对齐
+	 * @param src 源文本串
+	 * @param fm 字体信息
+	 * @param w 宽度
+	 * @return 用空格分散对齐两端后的字符串
 	 */
 	public static String scatterLine(String src, FontMetrics fm, float w) {
 		String line = src;
 		if (fm.stringWidth(line) >= w) return src;
-			String leftSpace = ""; // ¼ͷĿո
+			String leftSpace = ""; // 记录开头的空格个数
 			while (line.indexOf(" ") == 0) {
 				line = line.substring(1, line.length());
 				leftSpace += " ";
 			}
 
-			int numLongspace = 0; // ַּ
-			int widthChars = 0; // ַܿ
+			int numLongspace = 0; // 字符串分几段
+			int widthChars = 0; // 字符的总宽度
 			StringBuffer sb = new StringBuffer();
 			StringBuffer sbchars = new StringBuffer();
 			char[] cline = line.toCharArray();
@@ -257,18 +257,18 @@ public class DrawStringUtils2 {
 	}
 
 /**
- * Դո
- * @param src Դַ
- * @param fm Ϣ
- * @param w 
- * @return ַ
+ * 往源串中填充空格
+ * @param src 源字符串
+ * @param fm 字体信息
+ * @param w 宽度
+ * @return 处理后的字符串
  */
 	public static String fitSpaces(String src, FontMetrics fm, float w) {
 		String line = rightTrim(src);
 		if (fm.stringWidth(line) >= w)
 			return src;
 		String myLine = String.valueOf(line);
-		int scount = 0; // ҪĿո
+		int scount = 0; // 需要插入的空格数
 		while (true) {
 			myLine += " ";
 			if (fm.stringWidth(myLine) > w) {
@@ -285,8 +285,8 @@ public class DrawStringUtils2 {
 			sb.append(cline[c]);
 		}
 		int index = 0;
-		boolean flag = false; // ǿոʼı־
-		boolean haspace = false; // Ƿڿո
+		boolean flag = false; // 非空格开始的标志
+		boolean haspace = false; // 整行中是否存在空格
 		while (true) {
 			char c = sb.charAt(index);
 			if (!Character.isSpaceChar(c)) {
@@ -294,39 +294,39 @@ public class DrawStringUtils2 {
 			}
 			if (flag && index < sb.length() - 1) {
 				char c1 = sb.charAt(index + 1);
-				// ոͷǿոӿո
+				// 空格和非空格处添加空格
 				if (Character.isSpaceChar(c) && !Character.isSpaceChar(c1)) {
 					haspace = true;
 					sb.insert(index, ' ');
-					index++; // ոǰһ
+					index++; // 填入空格编号前进一个
 					scount--;
 					if (scount == 0) {
-						break; // ո˳
+						break; // 空格填完了退出
 					}
 				}
 			}
 			index++;
 			if (index > sb.length() - 1) {
 				if (!flag) {
-					break; // ַвڷǿո˳
+					break; // 字符串中不存在非空格退出
 				}
 				if (!haspace) {
-					break; // ַмвڿո˳
+					break; // 字符串中间中不存在空格退出
 				}
-				index = 0; // ַβ¼
+				index = 0; // 字符到结尾后归零重新计数
 			}
 		}
 		return sb.toString();
 	}
 
 	/**
-	 * Զкγɵıм 
+	 * 获得自动换行后所形成的文本行集合 
 	 */
 	public static ArrayList wrapString(String text, FontMetrics fm, float w) {
 		return wrapString(text, fm, w, false);
 	}
 
-	/** Զкγɵıм */
+	/** 获得自动换行后所形成的文本行集合 */
 	public static ArrayList<String> wrapString(String text, FontMetrics fm, float w,
 			boolean wrapChar) {
 		ArrayList<String> al = new ArrayList<String>();
@@ -334,7 +334,7 @@ public class DrawStringUtils2 {
 		text = replace(text, "\\r", "\r");
 		text = replace(text, "\r\n", "\n");
 		text = replace(text, "\r", "\n");
-		// ʹArgumenttokenizerµĹ
+		// 在这里使用Argumenttokenizer中新的构建方法
 		ArgumentTokenizer at = new ArgumentTokenizer(text, '\n', true, true,
 				true, true);
 		while (at.hasNext()) {
@@ -359,20 +359,20 @@ public class DrawStringUtils2 {
 	}
 
 	private static int cutLine(String s, char c, boolean wrapChar) {
-		// ǰгlen֪ǾͲȥ㣬㵱ǰʱַ
+		// 如果当前折行长度len已知，那就不去计算，否则计算当前折行时首行字符数
 		int len = s.length() - 1;
 		if (wrapChar) {
 			return len;
 		}
 
-		// βַc֪ǾͲȥ㣬βַ
+		// 如果尾字符c已知，那就不用去计算，否则计算尾字符
 		if (c == 0) {
 			c = s.charAt(len);
 		}
 		boolean canBeHead = canBeHead(c);
 		boolean isEnglishChar = isEnglishChar(c);
 		if (!canBeHead && isEnglishChar) {
-			// ӢַҪΪһʹͬУҪжǷȫΪӢַ
+			// 由于连续的英文字符需要视为一个单词共同换行，所以需要判断是否本行全部为连续英文字符
 			int seek = len - 1;
 			int loc = 0;
 			boolean hasHead = canBeHead(c);
@@ -383,14 +383,14 @@ public class DrawStringUtils2 {
 					letterbreak = true;
 					if (!hasHead) {
 						if (canBeHead(seekChar)) {
-							// гַǱַų֣ô趨Ϊtrue
+							// 如果本行中出现非避首字符（排除首字），那么设定有首字为true
 							hasHead = true;
 						}
 						seek--;
 					} else {
-						// гַӢַôжϸַǷǱβַ
+						// 如果本行中出现非英文字符，那么判断该字符是否是避尾字符
 						if (canBeFoot(seekChar)) {
-							// ǷǱβַôַм
+							// 如果是非避尾字符，那么从这个字符后折行即可
 							loc = seek + 1;
 						} else {
 							if (canBeHead(seekChar)) {
@@ -402,7 +402,7 @@ public class DrawStringUtils2 {
 						}
 					}
 				} else if (letterbreak) {
-					// ֱβַ֮ҵӢַôӸӢַϿͺ
+					// 如果出现避尾字符之后，又找到英文字符，那么从该英文字符后断开就好
 					loc = seek + 1;
 				} else {
 					if (canBeHead(seekChar)) {
@@ -414,62 +414,62 @@ public class DrawStringUtils2 {
 				}
 			}
 			if (loc > 0) {
-				// зӢַ
+				// 如果本行中有非英文字符
 				return loc;
 			} else {
-				// ȫӢַıβַôз
+				// 如果本行中全都是英文字符或者是连续的避尾字符，那么正常切分
 				return len;
 			}
 		} else if (!canBeHead) {
-			// cǱַ
+			// c是避首字符
 			int seek = len - 1;
 			int loc = 0;
 			boolean hasHead = false;
-			// ҵһǱַ
+			// 找到第一个非避首字符
 			while (seek >= 0 && loc == 0) {
 				char seekChar = s.charAt(seek);
 				if (!hasHead) {
 					if (canBeHead(seekChar)) {
-						// гַǱַų֣ô趨Ϊtrue
+						// 如果本行中出现非避首字符（排除首字），那么设定有首字为true
 						hasHead = true;
 					}
 					seek--;
 				} else {
 					if (isEnglishChar(seekChar)) {
-						// ӢַǰѯһӢַΪֹ
+						// 对于英数字符，向前查询到第一个非连续英数字符为止
 						int eseek = seek;
 						boolean eng = true;
 						while (eng && seek > 0) {
 							seek--;
 							eng = isEnglishChar(s.charAt(seek));
 						}
-						// added by bdl, 2011.8.12, ӵǰֱַһӢַ
-						// ôһӢַǰ
+						// added by bdl, 2011.8.12, 如果从当前字符直到第一个都是连续的英文字符，
+						// 那么从最后一个英数字符前断行
 						if (seek == 0) {
 							loc = eseek + 1;
 						}
 					}
-					// Ѿ֣ôжǷҪβ
+					// 如果已经有首字，那么判断是否要避尾
 					else if (canBeFoot(seekChar)) {
-						// βôڸַм
+						// 如果不避尾，那么在该字符后断行即可
 						loc = seek + 1;
 					} else {
-						// Ҫβ
+						// 需要避尾
 						seek--;
 					}
 				}
 			}
 			if (loc > 0) {
-				// п
+				// 如果本行中可正常断行
 				return loc;
 			} else {
-				// ȫǱ׻ıβַôз
+				// 如果本行中全都是避首或者是连续的避尾字符，那么正常切分
 				return len;
 			}
 		}
-		// ȻжcǷӢַ
+		// 然后再判断c是否是英文字符
 		else if (isEnglishChar) {
-			// ӢַҪΪһʹͬУҪжǷȫΪӢַ
+			// 由于连续的英文字符需要视为一个单词共同换行，所以需要判断是否本行全部为连续英文字符
 			int seek = len - 1;
 			int loc = 0;
 			boolean hasHead = canBeHead(c);
@@ -477,7 +477,7 @@ public class DrawStringUtils2 {
 			while (seek >= 0 && loc == 0) {
 				char seekChar = s.charAt(seek);
 				if (!isEnglishChar(seekChar)) {
-					// edited by bdl, 20111.5.17, ʱжϵǰַǷ
+					// edited by bdl, 20111.5.17, 折行时首先判断当前首字符是否避首
 					letterbreak = true;
 					if (!hasHead) {
 						if (canBeHead(seekChar)) {
@@ -485,9 +485,9 @@ public class DrawStringUtils2 {
 						}
 						seek--;
 					}
-					// гַӢַôжϸַǷǱβַ
+					// 如果本行中出现非英文字符，那么判断该字符是否是避尾字符
 					else if (canBeFoot(seekChar)) {
-						// ǷǱβַôַм
+						// 如果是非避尾字符，那么从这个字符后折行即可
 						loc = seek + 1;
 					} else {
 						if (canBeHead(seekChar)) {
@@ -498,7 +498,7 @@ public class DrawStringUtils2 {
 						seek--;
 					}
 				} else if (letterbreak) {
-					// ֱβַ֮ҵӢַôӸӢַϿͺ
+					// 如果出现避尾字符之后，又找到英文字符，那么从该英文字符后断开就好
 					loc = seek + 1;
 				} else {
 					if (canBeHead(seekChar)) {
@@ -510,19 +510,19 @@ public class DrawStringUtils2 {
 				}
 			}
 			if (loc > 0) {
-				// зӢַ
+				// 如果本行中有非英文字符
 				return loc;
 			} else {
-				// ȫӢַıβַôз
+				// 如果本行中全都是英文字符或者是连续的避尾字符，那么正常切分
 				return len;
 			}
 		}
 		return seekCanBeFoot(s.substring(0, len), len);
 	}
 
-	//ַsһڱĩַĺϿضϿַ
+	//将字符串s从最后面一个可置于本行行末的字符的后面断开，返回断开后本行字符数
 	private static int seekCanBeFoot(String s, int len) {
-		// ǰгlen֪ǾͲȥ㣬㵱ǰʱַ
+		// 如果当前折行长度len已知，那就不去计算，否则计算当前折行时首行字符数
 		if (len == -1) {
 			len = s.length();
 		}
@@ -543,36 +543,36 @@ public class DrawStringUtils2 {
 		if (loc > 0) {
 			return loc;
 		}
-		// sַǱβַôб
+		// 如果s中所有字符都是避尾字符，那么整行保留
 		return len;
 	}
 
-	//жĳַͨǷΪβ
+	//判断某字符通常情况下是否能作为行尾
 	private static boolean canBeFoot(char c) {
-		// еʱӦÿǵıβַ
-		String cannotFoot = "([{ۣ꣤";
+		// 断行的时候，应该考虑的避尾字符
+		String cannotFoot = "([{·‘“〈《「『【〔〖（．［｛￡￥";
 		return cannotFoot.indexOf(c) < 0;
 	}
 
-	//жĳַͨǷΪ
+	//判断某字符通常情况下是否能作为行首
 	private static boolean canBeHead(char c) {
-		// еʱӦÿǵıַ, edited by bdl, 2011.5.17Ӱٷֺű
-		String cannotHead = "%!),.:;?]}Dáݣ";
+		// 断行的时候，应该考虑的避首字符, edited by bdl, 2011.5.17，添加百分号避首
+		String cannotHead = "%％!),.:;?]}¨·ˇˉ―‖’”…∶、。〃々〉》」』】〕〗！＂＇），．：；？］｀｜｝～￠";
 		return cannotHead.indexOf(c) < 0;
 	}
 
 	private static boolean isEnglishChar(char c) {
-		//ĸжУС
+		//在字母数字判定中，添加小数点
 		return ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')
-				|| (c >= '0' && c <= '9') || c == '.' || c == '' || c == '%' || c == '');
+				|| (c >= '0' && c <= '9') || c == '.' || c == '．' || c == '%' || c == '％');
 	}
 
 	/**
-	 * &#92;uxxxxתΪunicodeַ'\\','\t','\n','\r','\f'д
+	 * 将&#92;uxxxx转换为unicode字符，并对'\\','\t','\n','\r','\f'进行处理
 	 * 
-	 * @params s Ҫַ
-	 * @params sb ׷ӴĻ
-	 * @return sb!=null򷵻sb򷵻׷˴StringBuffer
+	 * @params s 需要处理的字符串
+	 * @params sb 追加处理结果的缓冲区
+	 * @return 若sb!=null则返回sb，否则返回追加了处理结果的新StringBuffer
 	 */
 	public final static StringBuffer unicode(String s, StringBuffer sb) {
 		int len = s.length();
@@ -623,7 +623,7 @@ public class DrawStringUtils2 {
 						value = (value << 4) + 10 + ch - 'A';
 						break;
 					default:
-						throw new IllegalArgumentException("Ϸ\\uxxxx");
+						throw new IllegalArgumentException("不合法的\\uxxxx编码");
 					} // switch(ch)
 				} // for(int j)
 				sb.append((char) value);
@@ -649,18 +649,18 @@ public class DrawStringUtils2 {
 	}
 
 	/**
-	 * ַתΪunicode
-	 * @param s Դ
-	 * @return unicode
+	 * 将字符串转换为unicode串
+	 * @param s 源串
+	 * @return unicode串
 	 */
 	public final static String unicode(String s) {
 		return unicode(s, null).toString();
 	}
 
 	/**
-	 * ַתΪunicode
-	 * @param theString Դ
-	 * @return unicode
+	 * 将字符串转换为unicode串
+	 * @param theString 源串
+	 * @return unicode串
 	 */
 	public final static String unicode2String(String theString) {
 		char aChar;
@@ -718,13 +718,13 @@ public class DrawStringUtils2 {
 		return outBuffer.toString();
 	}
 
-	final static char[] c1Digit = { '', 'Ҽ', '', '', '', '', '½', '',
-			'', '' };
-	final static char[] c2Digit = { '', 'һ', '', '', '', '', '', '',
-			'', '' };
-	final static char[] c1Unit = { 'ʰ', '', 'Ǫ' };
-	final static char[] c2Unit = { 'ʮ', '', 'ǧ' };
-	final static String[] chinaUnit = { "", "", "" };
+	final static char[] c1Digit = { '零', '壹', '贰', '叁', '肆', '伍', '陆', '柒',
+			'捌', '玖' };
+	final static char[] c2Digit = { '零', '一', '二', '三', '四', '五', '六', '七',
+			'八', '九' };
+	final static char[] c1Unit = { '拾', '佰', '仟' };
+	final static char[] c2Unit = { '十', '百', '千' };
+	final static String[] chinaUnit = { "万", "亿", "亿万" };
 
 	private final static StringBuffer toRMB2(long l, char[] cDigit, char[] cUnit) {
 		long ml = l;
@@ -734,7 +734,7 @@ public class DrawStringUtils2 {
 		while (l > 0) {
 			if (bit == 4) {
 				if (unit > 2) {
-					throw new IllegalArgumentException("дִ֧һڵ");
+					throw new IllegalArgumentException("大写不支持大于一万万亿的数");
 				}
 
 				if (sf) {
@@ -764,13 +764,13 @@ public class DrawStringUtils2 {
 				if (bit != 0) {
 					sb.append(cUnit[bit - 1]);
 				}
-				//С100cUnitΪʮcDigitΪһʱһ
+				//小于100并且cUnit为十cDigit为一时，一不加入
 				if (bit == 1 && d == 1 && ml < 100) {
 				} else {
 					sb.append(cDigit[d]);
 				}
 			} else {
-				if (sf) { // β0
+				if (sf) { // 数据尾部的0忽略
 					hasZero = true;
 				}
 			}
@@ -782,54 +782,54 @@ public class DrawStringUtils2 {
 	}
 
 	/**
-	 * ʽҴдʽ
+	 * 将浮点数格式成人民币大写方式
 	 * 
 	 * @param money
-	 *            
-	 * @return ʽַ
+	 *            浮点数
+	 * @return 格式化的字符串
 	 * @exception IllegalArgumentException
-	 *                money<0money>=һʱ
+	 *                当money<0或money>=一万万亿时
 	 */
 	public final static String toRMB(double money) {
 		char[] cDigit = c1Digit, cUnit = c1Unit;
 		StringBuffer sb = new StringBuffer(64);
 		if (money < 0) {
-			sb.append("");
+			sb.append("负");
 			money = -money;
 		}
-		long yuan = (long) money; // Ԫ
+		long yuan = (long) money; // 元
 
 		if (yuan == 0) {
-			sb.append("");
+			sb.append("零");
 		} else {
 			sb.append(toRMB2(yuan, cDigit, cUnit));
 		}
-		sb.append('Ԫ');
+		sb.append('元');
 
 		int jaoFeng = (int) ((money + 0.001 - (long) money) * 100) % 100;
 		int jao = jaoFeng / 10;
 		int feng = jaoFeng % 10;
 		if (jao > 0) {
 			sb.append(cDigit[jao]);
-			sb.append('');
+			sb.append('角');
 		}
 		if (feng > 0) {
 			if (jao == 0) {
-				sb.append('');
+				sb.append('零');
 			}
 			sb.append(cDigit[feng]);
-			sb.append('');
+			sb.append('分');
 		} else {
-			sb.append('');
+			sb.append('整');
 		}
 		return sb.toString();
 	}
 
 	/**
-	 * תΪд
-	 * @param l ֵ
-	 * @param abbreviate д
-	 * @param uppercase д
+	 * 将读数转换为中文写法
+	 * @param l 数值
+	 * @param abbreviate 缩写
+	 * @param uppercase 大写
 	 * @return
 	 */
 	public final static String toChinese(long l, boolean abbreviate,
@@ -837,9 +837,9 @@ public class DrawStringUtils2 {
 
 		String fu = "";
 		if (l == 0) {
-			return "";
+			return "零";
 		} else if (l < 0) {
-			fu = "";
+			fu = "负";
 			l = -l;
 		}
 		char[] cDigit = uppercase ? c1Digit : c2Digit;
@@ -888,7 +888,7 @@ public class DrawStringUtils2 {
 					return false;
 				}
 			} else if (ch == '\\' && pos2 < len2 && fmt.charAt(pos2) == '*') {
-				// \* ʾλҪַ'*'ͨ*
+				// \* 表示此位置需要字符'*'，而不是通配符*
 				if (pos1 == len1 || value.charAt(pos1) != '*') {
 					return false;
 				}
@@ -913,29 +913,29 @@ public class DrawStringUtils2 {
 	}
 
 	/**
-	 * жַǷָĸʽ
+	 * 判断字符串是否具有指定的格式
 	 * 
 	 * @param value
-	 *            ַ
+	 *            字符串
 	 * @param fmt
-	 *            ʽ(*ʾ0ַ?ʾַ)
+	 *            格式串(*表示0个或多个字符，?表示单个字符)
 	 * @param ifcase
-	 *            ǷСд
-	 * @return valuefmtΪnullʱfalseƥʱҲfalse򷵻true
+	 *            是否大小写
+	 * @return 若value或fmt为null时返回false，若不匹配时也返回false，否则返回true
 	 */
 	public final static boolean matches(String value, String fmt, boolean ifcase) {
 		return matches(value, 0, fmt, 0, ifcase);
 	}
 
 	private final static String[] provinces = { null, null, null, null, null,
-			null, null, null, null, null, null, "", "", "ӱ", "ɽ", "ɹ",
-			null, null, null, null, null, "", "", "", null, null, null,
-			null, null, null, null, "Ϻ", "", "㽭", "΢", "", "", "ɽ",
-			null, null, null, "", "", "", "㶫", "", "", null, null,
-			null, "", "Ĵ", "", "", "", null, null, null, null, null,
-			null, "", "", "ຣ", "", "½", null, null, null, null, null,
-			"̨", null, null, null, null, null, null, null, null, null, "",
-			"", null, null, null, null, null, null, null, null, "" };
+			null, null, null, null, null, null, "北京", "天津", "河北", "山西", "内蒙古",
+			null, null, null, null, null, "辽宁", "吉林", "黑龙江", null, null, null,
+			null, null, null, null, "上海", "江苏", "浙江", "安微", "福建", "江西", "山东",
+			null, null, null, "河南", "湖北", "湖南", "广东", "广西", "海南", null, null,
+			null, "重庆", "四川", "贵州", "云南", "西藏", null, null, null, null, null,
+			null, "陕西", "甘肃", "青海", "宁夏", "新疆", null, null, null, null, null,
+			"台湾", null, null, null, null, null, null, null, null, null, "香港",
+			"澳门", null, null, null, null, null, null, null, null, "国外" };
 
 	private final static int[] wi = { 7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10,
 			5, 8, 4, 2, 1 };
@@ -943,7 +943,7 @@ public class DrawStringUtils2 {
 			'5', '4', '3', '2' };
 
 	/**
-	 * GB11643-1999<<ݺ>>GB11643-1989<<ᱣϺ>>涨֤ǷϹ淶
+	 * 根据GB11643-1999<<公民身份号码>>及GB11643-1989<<社会保障号码>>规定检查身份证号是否符合规范
 	 */
 	public final static boolean identify(String ident) {
 		if (ident == null) {
@@ -962,13 +962,13 @@ public class DrawStringUtils2 {
 			}
 		}
 
-		// 黧ص GB/T2260
+		// 检查户口所在县的行政区代码 GB/T2260
 		int p = (ident.charAt(0) - '0') * 10 + (ident.charAt(1) - '0');
 		if (p >= provinces.length || provinces[p] == null) {
 			return false;
 		}
 
-		//  GB/T7408
+		// 检查出生年月日 GB/T7408
 		int year = 0, month = 0, day = 0;
 		if (len == 15) {
 			year = 1900 + (ident.charAt(6) - '0') * 10
@@ -984,7 +984,7 @@ public class DrawStringUtils2 {
 		}
 		if (month == 2) {
 			if ((year % 4 == 0) && ((year % 100 != 0) || (year % 400 == 0))) {
-				// 229
+				// 闰年2月29日
 				if (day > 29) {
 					return false;
 				}
@@ -1005,7 +1005,7 @@ public class DrawStringUtils2 {
 			return false;
 		}
 
-		// У
+		// 检查校验码
 		if (len == 18) {
 			int[] w = wi;
 			int mod = 0;
@@ -1020,11 +1020,11 @@ public class DrawStringUtils2 {
 		return true;
 	}
 /**
- * ȫ滻ַ
- * @param src Դ
- * @param findString Ҵ
- * @param replaceString 滻
- * @return 滻ɺĴ
+ * 全替换字符串
+ * @param src 源串
+ * @param findString 查找串
+ * @param replaceString 替换串
+ * @return 替换完成后的串
  */
 	public static String replace(String src, String findString,
 			String replaceString) {
@@ -1090,11 +1090,11 @@ public class DrawStringUtils2 {
 	}
 
 	/**
-	 * תΪExcelбǩ
+	 * 将数字转换为Excel的列标签
 	 * 
 	 * @param index
-	 *            int,Ҫת,1ʼ,1ΪA
-	 * @return String,תбǩ,עExcelǩ26,26ƵZӦΪBA;ExcelǩZΪAA
+	 *            int,要转换的数字,从1开始,即1列为A
+	 * @return String,转换后的列标签,注意Excel标签不是26进制,26进制的Z后应该为BA;但Excel标签Z后为AA
 	 */
 	public static String toExcelLabel(int index) {
 		return toExcel(index - 1);
@@ -1102,9 +1102,9 @@ public class DrawStringUtils2 {
 
 
 	/**
-	 * ȥַеĿհַ
-	 * @param s Դ
-	 * @return ȥոĴ
+	 * 去掉字符串中的空白字符
+	 * @param s 源串
+	 * @return 去掉空格的串
 	 */
 	public static String trimWhitespace(String s) {
 		if (s == null) {
@@ -1122,18 +1122,18 @@ public class DrawStringUtils2 {
 	}
 
 	/**
-	 * ȡǰı߶
-	 * @param fm Ϣ
-	 * @return ı߶
+	 * 获取当前字体的文本高度
+	 * @param fm 字体信息
+	 * @return 文本高度
 	 */
 	public static int getTextRowHeight(FontMetrics fm) {
-		int tmpH = (int) Math.ceil(fm.getFont().getSize() * 1.28); // ֵи߹߶
-		int textH = fm.getHeight(); // ߶
+		int tmpH = (int) Math.ceil(fm.getFont().getSize() * 1.28); // 文字的行高估算高度
+		int textH = fm.getHeight(); // 文字区域高度
 		if (tmpH < textH) {
 			return textH;
 		}
 		int dh = tmpH - textH;
-		if (dh % 2 == 0) { // Ϊ˱֤߶Ǿиߣ֤dhΪż
+		if (dh % 2 == 0) { // 为了保证文字区域高度总是居中于行高，保证dh总是为偶数
 			return tmpH;
 		}
 		return tmpH + 1;
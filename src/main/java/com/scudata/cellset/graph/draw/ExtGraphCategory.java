@@ -5,37 +5,37 @@ import java.util.*;
 import com.scudata.util.*;
 
 /**
- * ͼηඨչ
+ * 图形分类定义扩展属性
  * 
  * @author Joancy
  *
  */
 public class ExtGraphCategory implements Comparable{
-  /** ʽ  ʱ״̬ͼʽͼ̱ͼĿ*/
+  /** 分类表达式 或者 时序状态图分类表达式或甘特图和里程碑图的项目*/
   private Object name;
 
-  /**˷µϵ (ExtGraphSery ExtGraphTimeStatus)*/
+  /**此分类下的系列 (ExtGraphSery或者 ExtGraphTimeStatus)*/
   private ArrayList series;
 
   /**
-   * 
-   * @return Object 
+   * 获得名称
+   * @return Object 分类名称
    */
   public Object getName() {
 	return name;
   }
 
   /**
-   * ȡƵַʾ
-   * @return ַ
+   * 取分类名称的字符串表示法
+   * @return 字符串名称
    */
   public String getNameString(){
 	return Variant.toString(name);
   }
 
   /**
-   * ܵǰµϵֵ
-   * @return ֵ
+   * 汇总当前分类下的系列数值
+   * @return 汇总值
    */
   public double getSumSeries() {
 	double d = 0;
@@ -46,9 +46,9 @@ public class ExtGraphCategory implements Comparable{
 	return d;
   }
   /**
-   * ÷д0ֵ
-   * ѻͼõ
-   * @return double ֵ
+   * 将该分类中所有大于0的数值加起来
+   * 堆积图会用到
+   * @return double 正数汇总值
    */
   public double getPositiveSumSeries() {
 	double d = 0;
@@ -64,8 +64,8 @@ public class ExtGraphCategory implements Comparable{
   }
 
   /**
-   * ͳϵֵΪĻֵ
-   * @return ֵ
+   * 统计系列值为负的汇总值
+   * @return 负数汇总值
    */
   public double getNegativeSumSeries() {
 	double d = 0;
@@ -81,9 +81,9 @@ public class ExtGraphCategory implements Comparable{
   }
 
   /**
-   * ȡϵж
-   * @param seriesName ϵ
-   * @return ϵж
+   * 取系列对象
+   * @param seriesName 系列名称
+   * @return 系列对象
    */
   public ExtGraphSery getExtGraphSery( Object seriesName ){
 	ExtGraphSery egs;
@@ -99,34 +99,34 @@ public class ExtGraphCategory implements Comparable{
 	return egs;
   }
   /**
-   * ñµϵ
-   * @return ArrayList (ExtGraphSery ExtGraphTimeStatus) µϵ
+   * 获得本分类下的系列
+   * @return ArrayList (ExtGraphSery或者 ExtGraphTimeStatus) 本分类下的系列
    */
   public ArrayList getSeries() {
 	return series;
   }
 
   /**
-   * 
-   * @param name 
+   * 设置名称
+   * @param name 分类名称
    */
   public void setName(Object name) {
 	this.name = name;
   }
 
   /**
-   * ñµϵ
-   * @param series (ExtGraphSery ExtGraphTimeStatus) µϵ
+   * 获得本分类下的系列
+   * @param series (ExtGraphSery或者 ExtGraphTimeStatus) 本分类下的系列
    */
   public void setSeries(ArrayList series) {
 	this.series = series;
   }
 
   /**
-   * ʵֱȽϺ
-   * ϵеĻֵбȽ
-   * @param o Object  
-   * @return int ȽϽ
+   * 实现比较函数
+   * 根据系列的汇总值进行比较
+   * @param o Object 分类对象 
+   * @return int 比较结果
    */
   public int compareTo(Object o) {
 	ExtGraphCategory otherEgc = (ExtGraphCategory)o;
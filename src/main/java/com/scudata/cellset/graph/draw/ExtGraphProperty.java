@@ -9,7 +9,7 @@ import com.scudata.chart.Consts;
 import com.scudata.common.StringUtils;
 
 /**
- * չͼη
+ * 扩展图形分类
  * 
  * @author Joancy
  *
@@ -25,7 +25,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡз
+	 * 取所有分类的名称
 	 * 
 	 * @return
 	 */
@@ -34,11 +34,11 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ṹķתΪб
+	 * 将数组结构的分类转换为列表对象
 	 * 
 	 * @param cats
-	 *            
-	 * @return б
+	 *            分类
+	 * @return 列表
 	 */
 	public static ArrayList getArrayList(ExtGraphCategory[] cats) {
 		ArrayList list = new ArrayList();
@@ -49,22 +49,22 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * гз
+	 * 列出所有分类的名称
 	 * 
 	 * @param categories
-	 *            
-	 * @return 
+	 *            分类
+	 * @return 名称
 	 */
 	public static Vector listCategoryNames(ExtGraphCategory[] categories) {
 		return listCategoryNames(getArrayList(categories));
 	}
 
 	/**
-	 * гз
+	 * 列出所有分类的名称
 	 * 
 	 * @param categories
-	 *            
-	 * @return 
+	 *            分类
+	 * @return 名称
 	 */
 	public static Vector listCategoryNames(ArrayList categories) {
 		Vector v = new Vector();
@@ -73,17 +73,17 @@ public class ExtGraphProperty {
 		}
 		for (int i = 0; i < categories.size(); i++) {
 			ExtGraphCategory egc = (ExtGraphCategory) categories.get(i);
-			v.add(egc.getName()); // ͼʱиʽ,Ըֵֻԭʼ,ô
+			v.add(egc.getName()); // 趋势图由于输出时有格式,所以该值只能是原始对象,不能用串串
 		}
 		return v;
 	}
 
 	/**
-	 * гϵе
+	 * 列出分类属性中所有系列的名字
 	 * 
 	 * @param cats
-	 *            (ϵ)
-	 * @return ϵе
+	 *            分类属性(包含系列)
+	 * @return 系列的名字
 	 */
 	public Vector listSeriesNames(ExtGraphCategory[] cats) {
 		return listSeriesNames(getArrayList(cats));
@@ -94,11 +94,11 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * гϵе
+	 * 列出分类属性中所有系列的名字
 	 * 
 	 * @param cats
-	 *            (ϵ)
-	 * @return ϵе
+	 *            分类属性(包含系列)
+	 * @return 系列的名字
 	 */
 	public Vector listSeriesNames(ArrayList cats) {
 		Vector names = new Vector();
@@ -123,12 +123,12 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * Ҫָϵʱڷҵһͬϵж󼴿 úָֻϵеã򵱸صͼʱϵж
+	 * 当需要指定系列所在轴时，在分类对象中找到第一个同名的系列对象即可 该函数只能在指定系列轴中调用，否则当甘特等图形时，系列对象不是
 	 * ExtGraphSery
 	 * 
 	 * @param sname
-	 *            ϵ
-	 * @return ϵж
+	 *            系列名字
+	 * @return 系列对象
 	 */
 	public ExtGraphSery getEGS(String sname) {
 		ArrayList cats = categories;
@@ -156,11 +156,11 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡϵе,ͬlistSeriesNames,
-	 * úݱϵеĸʽ
+	 * 获取分类属性中所有系列的名字,不同于listSeriesNames,
+	 * 该函数兼容报表中系列的格式
 	 * @param cats
-	 *            (ϵ)
-	 * @return ϵе
+	 *            分类属性(包含系列)
+	 * @return 系列的名字
 	 */
 	public Vector getSeriesNames(ArrayList cats) {
 		if (cats == null) {
@@ -173,8 +173,8 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * 캯
-	 * @param graph ͼԽӿ
+	 * 构造函数
+	 * @param graph 图形属性接口
 	 */
 	public ExtGraphProperty(IGraphProperty graph) {
 		prop = graph;
@@ -182,58 +182,58 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * μPublicPropertyͬ
+	 * 参见PublicProperty同名方法
 	 */
 	public byte getCurveType() {
 		return prop.getCurveType();
 	}
 
 	/**
-	 * ͼʱǷһʾ
-	 * @return Ƿtruefalse
+	 * 饼图时是否将最大一块分离显示
+	 * @return 是返回true，否则false
 	 */
 	public boolean isCutPie() {
 		return prop.isPieSpacing();
 	}
 
 	/**
-	 * μPublicPropertyͬ
+	 * 参见PublicProperty同名方法
 	 */
 	public boolean isMeterColorEnd() {
 		return prop.isMeterColorEnd();
 	}
 
 	/**
-	 * μPublicPropertyͬ
+	 * 参见PublicProperty同名方法
 	 */
 	public boolean isMeterTick() {
 		return prop.isMeterTick();
 	}
 
 	/**
-	 * μPublicPropertyͬ
+	 * 参见PublicProperty同名方法
 	 */
 	public int getMeter3DEdge() {
 		return prop.getMeter3DEdge();
 	}
 
 	/**
-	 * μPublicPropertyͬ
+	 * 参见PublicProperty同名方法
 	 */
 	public int getMeterRainbowEdge() {
 		return prop.getMeterRainbowEdge();
 	}
 
 	/**
-	 * μPublicPropertyͬ
+	 * 参见PublicProperty同名方法
 	 */
 	public int getPieLine() {
 		return prop.getPieLine();
 	}
 
 	/**
-	 * жϵǰͼǷ˫ͼ
-	 * @return ˫ͼηtrue򷵻false
+	 * 判断当前图形是否双轴图
+	 * @return 双轴图形返回true，否则返回false
 	 */
 	public boolean is2YGraph() {
 		byte type = this.getType();
@@ -242,17 +242,17 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * жϵǰͼǷΪͨĶѻͼ˫Ķѻ
-	 * @return ͨѻͼtrue򷵻false
+	 * 判断当前图形是否仅为普通的堆积图，而不包含双轴的堆积
+	 * @return 普通堆积图返回true，否则返回false
 	 */
 	public boolean isNormalStacked() {
 		return isNormalStacked(getType());
 	}
 
 	/**
-	 * жtypeͼǷΪͨĶѻͼ˫Ķѻ
-	 * @param type ͼ
-	 * @return ͨѻͼtrue򷵻false
+	 * 判断type图形是否仅为普通的堆积图，而不包含双轴的堆积
+	 * @param type 图类型
+	 * @return 普通堆积图返回true，否则返回false
 	 */
 	public static boolean isNormalStacked(byte type) {
 		return type == GraphTypes.GT_BARSTACKED
@@ -262,9 +262,9 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * жϵǰͼinstanceǷΪѻͼ
-	 * @param instance ͼʵֵʵ
-	 * @return ѻͼʱtrue򷵻false
+	 * 判断当前图形instance是否为堆积图形
+	 * @param instance 图形实现的实例
+	 * @return 堆积图形时返回true，否则返回false
 	 */
 	public boolean isStackedGraph(DrawBase instance) {
 		if (instance == null) {
@@ -282,9 +282,9 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * жϵǰͼinstanceǷΪͼͼ
-	 * @param instance ͼʵֵʵ
-	 * @return ͼʱtrue򷵻false
+	 * 判断当前图形instance是否为条形图，即横向的柱形图
+	 * @param instance 图形实现的实例
+	 * @return 条形图时返回true，否则返回false
 	 */
 	public boolean isBarGraph(DrawBase instance) {
 		if (instance == null) {
@@ -300,9 +300,9 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ݷcatNameȡչͼη
-	 * @param catName 
-	 * @return չͼη
+	 * 根据分类名称catName获取扩展图形分类对象
+	 * @param catName 分类的名称
+	 * @return 扩展图形分类
 	 */
 	public ExtGraphCategory getExtGraphCategory(Object catName) {
 		for (int i = 0; i < categories.size(); i++) {
@@ -315,9 +315,9 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * Ƿͳͼ,ʱͼ,ͼ,̱,ʱ״̬ͼͼ
+	 * 是否正常统计图,即时间走势图,甘特图,里程碑,时间状态图以外的所有图形
 	 * 
-	 * @return boolean ͼηtrue򷵻false
+	 * @return boolean 常规图形返回true，否则返回false
 	 */
 	public static boolean isNormalGraph(byte type) {
 		return (type != GraphTypes.GT_TIMETREND
@@ -330,7 +330,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * °ֵӦ
+	 * 重新按照属性值的设置来调整相应数据
 	 */
 	public void recalcProperty() {
 		discardNoNameData();
@@ -379,8 +379,8 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * øָ
-	 * @param set Ƿָ
+	 * 设置根据轴分割数据
+	 * @param set 是否轴分割
 	 */
 	public void setSplitByAxis(boolean set) {
 		isSplitByAxis = set;
@@ -463,7 +463,7 @@ public class ExtGraphProperty {
 	private void discardNoNameData() {
 		if (categories == null || categories.size() == 0) {
 			throw new RuntimeException(
-					"ErrorGraph does not define categories!");
+					"Error！Graph does not define categories!");
 		}
 		for (int i = categories.size() - 1; i >= 0; i--) {
 			ExtGraphCategory egc = (ExtGraphCategory) categories.get(i);
@@ -478,7 +478,7 @@ public class ExtGraphProperty {
 				if (_instanceof(objSer, "ExtGraphSery")) {
 					ExtGraphSery egs = (ExtGraphSery) objSer;
 					if (!StringUtils.isValidString(egs.getName())
-							&& egs.isNull()) { // ҽϵƺֵΪյʱ򣬺Ըϵ
+							&& egs.isNull()) { // 当且仅当系列名称和值都为空的时候，忽略该系列
 						series.remove(j);
 						continue;
 					}
@@ -488,10 +488,10 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * װһʵжϵдд
-	 * @param ins ʵ
-	 * @param className 
-	 * @return ǵǰʵ򷵻true򷵻false
+	 * 封装一下实例判断的写法，简便代码的书写
+	 * @param ins 实例对象
+	 * @param className 类的名称
+	 * @return 如果是当前类的实例则返回true，否则返回false
 	 */
 	public static boolean _instanceof(Object ins, String className) {
 		return ins.getClass().getName().endsWith(className);
@@ -499,11 +499,11 @@ public class ExtGraphProperty {
 
 	private void extractTopNCat() {
 		int originCatNum = categories.size();
-		if (topN <= 0 || topN > (originCatNum - 2)) { // Otherֻһûʱ,û
+		if (topN <= 0 || topN > (originCatNum - 2)) { // 如果Other只有一个分类甚至没有时,没有意义
 			return;
 		}
 		Collections.reverse(categories);
-//		com.scudata.ide.common.GM.sort(categories, false); // ÿϵк,ȡǰTopN
+//		com.scudata.ide.common.GM.sort(categories, false); // 按照每个分类的系列和排序,取前TopN个
 
 		ArrayList dataCategory = new ArrayList();
 		for (int i = 0; i < topN; i++) {
@@ -515,7 +515,7 @@ public class ExtGraphProperty {
 		}
 		ExtGraphCategory otherCategoryData = new ExtGraphCategory();
 		if (DrawBase.isChinese()) {
-			otherCategoryData.setName("");
+			otherCategoryData.setName("其他");
 		} else {
 			otherCategoryData.setName("Other");
 		}
@@ -554,113 +554,113 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡͳͼ
+	 * 取统计图类型
 	 * 
-	 * @return byte ͳͼͣGraphTypesеĳ
+	 * @return byte 统计图类型，由GraphTypes中的常量定义
 	 */
 	public byte getType() {
 		return graphType;
 	}
 
 	/**
-	 * Ƿϵлͼ
-	 * @return ϵлշ໭
+	 * 是否根据系列画图例数据
+	 * @return 如果是则按系列画，否则按照分类画
 	 */
 	public boolean isLegendOnSery() {
 		return prop.getDrawLegendBySery();
 	}
 
 	/**
-	 * ȡɫ
+	 * 取坐标轴颜色
 	 * 
-	 * @return int ɫ
+	 * @return int 坐标轴颜色
 	 */
 	public int getAxisColor() {
 		return prop.getAxisColor();
 	}
 
 	/**
-	 * ȡȫͼɫ
+	 * 取全图背景颜色
 	 * 
-	 * @return intȫͼɫ
+	 * @return int　全图背景颜色
 	 */
 	public int getCanvasColor() {
 		return prop.getCanvasColor();
 	}
 
 	/**
-	 * ȡͼɫ
+	 * 取图形区背景颜色
 	 * 
-	 * @return intͼɫ
+	 * @return int　图形区背景颜色
 	 */
 	public int getGraphBackColor() {
 		return prop.getGraphBackColor();
 	}
 
 	/**
-	 * ȡͳͼඨ
+	 * 取统计图分类定义
 	 * 
-	 * @return ArrayList (GraphCategory)ͳͼඨ
+	 * @return ArrayList (GraphCategory)　统计图分类定义
 	 */
 	public ArrayList getCategories() {
 		return this.categories;
 	}
 
 	/**
-	 * ȡ
+	 * 取横轴标题
 	 * 
-	 * @return String 
+	 * @return String 横轴标题
 	 */
 	public String getXTitle() {
 		return this.xTitle;
 	}
 
 	/**
-	 * ȡĶ뷽ʽ
-	 * @return 뷽ʽ
+	 * 取横轴标题的对齐方式
+	 * @return 对齐方式
 	 */
 	public byte getXTitleAlign() {
 		return prop.getXTitleAlign();
 	}
 
 	/**
-	 * ȡ
+	 * 取纵轴标题
 	 * 
-	 * @return String 
+	 * @return String 纵轴标题
 	 */
 	public String getYTitle() {
 		return this.yTitle;
 	}
 
 	/**
-	 * ȡĶ뷽ʽ
-	 * @return 뷽ʽ
+	 * 取纵轴标题的对齐方式
+	 * @return 对齐方式
 	 */
 	public byte getYTitleAlign() {
 		return prop.getYTitleAlign();
 	}
 
 	/**
-	 * ȡͳͼ
+	 * 取统计图标题
 	 * 
-	 * @return Stringͳͼ
+	 * @return String　统计图标题
 	 */
 	public String getGraphTitle() {
 		return this.graphTitle;
 	}
 
 	/**
-	 * ȡͳͼĶ뷽ʽ
-	 * @return 뷽ʽ
+	 * 取统计图标题的对齐方式
+	 * @return 对齐方式
 	 */
 	public byte getGraphTitleAlign() {
 		return prop.getGraphTitleAlign();
 	}
 
 	/**
-	 * ȡ
+	 * 取网格线类型
 	 * 
-	 * @return byteֵͣΪLINE_NONE, LINE_SOLID, LINE_LONG_DASH,
+	 * @return byte　网格线类型，值为LINE_NONE, LINE_SOLID, LINE_LONG_DASH,
 	 *         LINE_SHORT_DASH, LINE_DOT_DASH, LINE_2DOT_DASH
 	 */
 	public byte getGridLineType() {
@@ -668,7 +668,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty的同名方法
 	 * @return
 	 */
 	public byte getGridLocation() {
@@ -676,34 +676,34 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡɫ
+	 * 取网格线颜色
 	 * 
-	 * @return intɫ
+	 * @return int　网格线颜色
 	 */
 	public int getGridLineColor() {
 		return prop.getGridLineColor();
 	}
 
 	/**
-	 * ȡͼͼ
+	 * 取柱形图或条形图间距
 	 * 
-	 * @return doubleͼͼ
+	 * @return double　柱形图或条形图间距
 	 */
 	public double getBarDistance() {
 		return this.barDistance;
 	}
 
 	/**
-	 * ȡͼθʽ
+	 * 取图形格式
 	 * 
-	 * @return byteͼθʽ, ֵΪIMAGE_JPG, IMAGE_GIF, IMAGE_PNG
+	 * @return byte　图形格式, 值为IMAGE_JPG, IMAGE_GIF, IMAGE_PNG
 	 */
 	public byte getImageFormat() {
 		return prop.getImageFormat();
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty的同名方法
 	 * @return
 	 */
 	public boolean isGraphTransparent() {
@@ -711,7 +711,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty的同名方法
 	 * @return
 	 */
 	public boolean isDrawDataTable() {
@@ -719,7 +719,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty的同名方法
 	 * @return
 	 */
 	public boolean isDataCenter() {
@@ -727,7 +727,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡǷ񽥱ɫ
+	 * 取是否渐变色
 	 * 
 	 * @return boolean
 	 */
@@ -736,18 +736,18 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡͳͼ
+	 * 取统计图字体
 	 * 
-	 * @return GraphFontsͳͼ
+	 * @return GraphFonts　统计图字体
 	 */
 	public GraphFonts getFonts() {
 		return prop.getFonts();
 	}
 
 	/**
-	 * ȡ߶
+	 * 取警戒线定义
 	 * 
-	 * @return ArrayList (ExtAlarmLine)߶
+	 * @return ArrayList (ExtAlarmLine)　警戒线定义
 	 */
 	public ArrayList getAlarmLines() {
 		if (alarms == null) {
@@ -775,9 +775,9 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡͼʾݶ
+	 * 取图中显示数据定义
 	 * 
-	 * @return byteͼʾݶ壬ֵΪDISPDATA_NONE, DISPDATA_VALUE,
+	 * @return byte　图中显示数据定义，值为DISPDATA_NONE, DISPDATA_VALUE,
 	 *         DISPDATA_PERCENTAGE
 	 */
 	public byte getDisplayData() {
@@ -788,7 +788,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty的同名方法
 	 * @return
 	 */
 	public boolean isDispStackSumValue() {
@@ -796,53 +796,53 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡͼʾݸʽ
+	 * 取图中显示数据格式定义
 	 * 
-	 * @return Stringͼʾݸʽ
+	 * @return String　图中显示数据格式定义
 	 */
 	public String getDisplayDataFormat1() {
 		return this.dataFormat1;
 	}
 
 	/**
-	 * ȡͼʾݸʽ
+	 * 取二轴图中显示数据格式定义
 	 * 
-	 * @return Stringͼʾݸʽ
+	 * @return String　图中显示数据格式定义
 	 */
 	public String getDisplayDataFormat2() {
 		return this.dataFormat2;
 	}
 
 	/**
-	 * ȡͳͼ
+	 * 取统计图超链接
 	 * 
-	 * @return Stringͳͼ
+	 * @return String　统计图超链接
 	 */
 	public String getLink() {
 		return this.link;
 	}
 
 	/**
-	 * ȡͼĳ
-	 * @return Ӵ
+	 * 取图例的超链接
+	 * @return 链接串
 	 */
 	public String getLegendLink() {
 		return prop.getLegendLink();
 	}
 
 	/**
-	 * ȡͳͼĿ괰
+	 * 取统计图超链接目标窗口
 	 * 
-	 * @return StringͳͼĿ괰
+	 * @return String　统计图超链接目标窗口
 	 */
 	public String getLinkTarget() {
 		return this.linkTarget;
 	}
 
 	/**
-	 * ȡͳͼͼλ
+	 * 取统计图的图例位置
 	 * 
-	 * @return byteͳͼͼλãֵΪLEGEND_LEFT, LEGEND_RIGHT, LEGEND_TOP,
+	 * @return byte　统计图的图例位置，值为LEGEND_LEFT, LEGEND_RIGHT, LEGEND_TOP,
 	 *         LEGEND_BOTTOM, LEGEND_NONE
 	 */
 	public byte getLegendLocation() {
@@ -850,7 +850,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty同名方法
 	 * @return
 	 */
 	public int getLegendVerticalGap() {
@@ -858,7 +858,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty同名方法
 	 * @return
 	 */
 	public int getLegendHorizonGap() {
@@ -866,69 +866,69 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡͳͼɫ
+	 * 取统计图的配色方案名
 	 * 
-	 * @return Stringͳͼɫ
+	 * @return String　统计图的配色方案名
 	 */
 	public Palette getPlatte() {
 		return this.palette;
 	}
 
 	/**
-	 * ȡͳֵʼֵ
+	 * 取统计值起始值
 	 * 
-	 * @return Stringͳֵʼֵ
+	 * @return String　统计值起始值
 	 */
 	public double getYStartValue1() {
 		return this.yStartValue1;
 	}
 
 	/**
-	 * ȡ˫ͼڶʼֵ
-	 * @return ͳʼֵ
+	 * 取双轴图第二轴的起始值
+	 * @return 统计起始值
 	 */
 	public double getYStartValue2() {
 		return this.yStartValue2;
 	}
 
 	/**
-	 * ȡͳֵֵ
+	 * 取统计值结束值
 	 * 
-	 * @return Stringͳֵֵ
+	 * @return String　统计值结束值
 	 */
 	public double getYEndValue1() {
 		return this.yEndValue1;
 	}
 
 	/**
-	 * ȡ˫ͼڶĽֵ
-	 * @return ֵ
+	 * 取双轴图第二轴的结束值
+	 * @return 结束值
 	 */
 	public double getYEndValue2() {
 		return this.yEndValue2;
 	}
 
 	/**
-	 * ȡͳֵǩ
+	 * 取统计值标签间隔
 	 * 
-	 * @return doubleͳֵǩ
+	 * @return double　统计值标签间隔
 	 */
 	public double getYInterval1() {
 		return this.yInterval1;
 	}
 
 	/**
-	 * ȡ˫ͼڶıǩ
-	 * @return ǩ
+	 * 取双轴图第二轴的标签间隔
+	 * @return 标签间隔
 	 */
 	public double getYInterval2() {
 		return this.yInterval2;
 	}
 
 	/**
-	 * ȡͳֵλ
+	 * 取统计值数量单位
 	 * 
-	 * @return doubleͳֵλֵΪUNIT_ORIGIN, UNIT_AUTO, UNIT_THOUSAND,
+	 * @return double　统计值数量单位，值为UNIT_ORIGIN, UNIT_AUTO, UNIT_THOUSAND,
 	 *         UNIT_10THOUSAND, UNIT_MILLION, UNIT_10MILLION, UNIT_100MILLION,
 	 *         UNIT_BILLION, UNIT_001, UNIT_0001, UNIT_00001, UNIT_0000001
 	 */
@@ -937,25 +937,25 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡͳֵٿ̶
+	 * 取得统计值最少刻度数
 	 * 
-	 * @param int ͳֵٿ̶
+	 * @param int 统计值最少刻度数
 	 */
 	public int getYMinMarks() {
 		return this.yMinMarks;
 	}
 
 	/**
-	 * ȡͼ֮ļ
+	 * 取标题与图形之间的间距
 	 * 
-	 * @return doubleͼ֮ļ
+	 * @return double　标题与图形之间的间距
 	 */
 	public double getTitleMargin() {
 		return this.titleMargin;
 	}
 
 	/**
-	 * ȡͼǷעݵ
+	 * 取折线图是否标注数据点
 	 * 
 	 * @return boolean
 	 */
@@ -964,7 +964,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty同名方法
 	 * @return
 	 */
 	public boolean isOverlapOrigin() {
@@ -972,7 +972,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡͼǷ
+	 * 取折线图是否画趋势线
 	 * 
 	 * @return boolean
 	 */
@@ -981,7 +981,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͼǷԿֵ
+	 * 折线图是否忽略空值
 	 * 
 	 * @return boolean
 	 */
@@ -990,7 +990,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * Զͼ
+	 * 自定义图形类名
 	 * 
 	 * @return String
 	 */
@@ -999,7 +999,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * Զͼβ
+	 * 自定义图形参数
 	 * 
 	 * @return String
 	 */
@@ -1008,7 +1008,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡͼϸ
+	 * 取折线图粗细度
 	 * 
 	 * @return boolean
 	 */
@@ -1017,7 +1017,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty同名方法
 	 * @return
 	 */
 	public byte getLineStyle() {
@@ -1025,7 +1025,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡֵǩصʱǷʾһֵǩ
+	 * 取相邻数值或标签重叠时是否显示后一数值或标签
 	 * 
 	 * @return boolean
 	 */
@@ -1034,36 +1034,36 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡǩ
+	 * 取分类轴标签间隔
 	 * 
-	 * @return doubleǩ
+	 * @return double　分类轴标签间隔
 	 */
 	public double getXInterval() {
 		return this.xInterval;
 	}
 
 	/**
-	 * ȡʱͼ
+	 * 取时间走势图横轴
 	 * 
-	 * @return ArrayList(ExtTimeTrendXValue) ʱͼ
+	 * @return ArrayList　(ExtTimeTrendXValue) 时间走势图横轴
 	 */
 	public ArrayList getTimeTrendXValues() {
 		return this.ttXValues;
 	}
 
 	/**
-	 * ȡʱ״̬ͼͼ״̬
+	 * 取时序状态图或甘特图状态条宽度
 	 * 
-	 * @return intʱ״̬ͼͼ״̬
+	 * @return int　时序状态图或甘特图状态条宽度
 	 */
 	public int getStatusBarWidth() {
 		return this.statusBarWidth;
 	}
 
 	/**
-	 * ȡʱ״̬ͼͼʱ̶
+	 * 取时序状态图或甘特图时间刻度类型
 	 * 
-	 * @return byteʱ״̬ͼͼʱ̶ֵͣΪTIME_YEAR, TIME_MONTH, TIME_DAY,
+	 * @return byte　时序状态图或甘特图时间刻度类型，值为TIME_YEAR, TIME_MONTH, TIME_DAY,
 	 *         TIME_HOUR, TIME_MINUTE, TIME_SECOND
 	 */
 	public byte getStatusTimeType() {
@@ -1071,104 +1071,104 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 *  ûǷͼͼ
-	 * @return Էtruefalse
+	 *  用户是否设置柱形图或条形图间距
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetBarDistance() {
 		return ((userSetStatus & BAR_DISTANCE) == BAR_DISTANCE);
 	}
 
 	/**
-	 * ûǷǰNݻͼ 
-	 * @return Էtruefalse
+	 * 用户是否设置用前N条数据画图 
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetTopData() {
 		return ((userSetStatus & TOP_DATA_N) == TOP_DATA_N);
 	}
 
 	/**
-	 * ûǷͳֵʼֵ
-	 * @return Էtruefalse
+	 * 用户是否设置统计值起始值
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetYStartValue1() {
 		return ((userSetStatus & Y_START_VALUE1) == Y_START_VALUE1);
 	}
 
 	/**
-	 * ûǷõڶͳֵʼֵ
-	 * @return Էtruefalse
+	 * 用户是否设置第二轴的统计值起始值
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetYStartValue2() {
 		return ((userSetStatus & Y_START_VALUE2) == Y_START_VALUE2);
 	}
 
 	/**
-	 * ûǷͳֵֵ
-	 * @return Էtruefalse
+	 * 用户是否设置统计值结束值
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetYEndValue1() {
 		return ((userSetStatus & Y_END_VALUE1) == Y_END_VALUE1);
 	}
 
 	/**
-	 * ûǷ˵ڶͳֵֵ
-	 * @return Էtruefalse
+	 * 用户是否设置了第二轴统计值结束值
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetYEndValue2() {
 		return ((userSetStatus & Y_END_VALUE2) == Y_END_VALUE2);
 	}
 
 	/**
-	 * ûǷͳֵǩ
-	 * @return Էtruefalse
+	 * 用户是否设置统计值标签间隔
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetYInterval1() {
 		return ((userSetStatus & Y_INTERVAL1) == Y_INTERVAL1);
 	}
 
 	/**
-	 * ûǷ˵ڶͳֵǩ
-	 * @return Էtruefalse
+	 * 用户是否设置了第二轴统计值标签间隔
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetYInterval2() {
 		return ((userSetStatus & Y_INTERVAL2) == Y_INTERVAL2);
 	}
 
 	/**
-	 * ûǷͳֵٿ̶
-	 * @return Էtruefalse
+	 * 用户是否设置统计值最少刻度数
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetYMinMarks() {
 		return ((userSetStatus & Y_MIN_MARK) == Y_MIN_MARK);
 	}
 
 	/**
-	 * ûǷñͼ֮ļ
-	 * @return Էtruefalse
+	 * 用户是否设置标题与图形之间的间距
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetTitleMargin() {
 		return ((userSetStatus & TITLE_MARGIN) == TITLE_MARGIN);
 	}
 
 	/**
-	 * ûǷ÷ǩ
-	 * @return Էtruefalse
+	 * 用户是否设置分类轴标签间隔
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetXInterval() {
 		return ((userSetStatus & X_INTERVAL) == X_INTERVAL);
 	}
 
 	/**
-	 * ûǷʱ״̬ͼͼ״̬
-	 * @return Էtruefalse
+	 * 用户是否设置时序状态图或甘特图状态条宽度
+	 * @return 设置了属性返回true，否则false
 	 */
 	public boolean isUserSetStatusBarWidth() {
 		return ((userSetStatus & STATUS_BAR_WIDTH) == STATUS_BAR_WIDTH);
 	}
 
 	/**
-	 * ǷӰ
-	 * @return Ӱtrue򷵻false
+	 * 是否绘制阴影
+	 * @return 绘制阴影返回true，否则返回false
 	 */
 	public boolean isDrawShade() {
 		if (isStackedGraph(null)) {
@@ -1176,13 +1176,13 @@ public class ExtGraphProperty {
 		}
 		if (graphType == GraphTypes.GT_COL3D)
 			return false;
-		// ƽ̨ʱҲӰ
-		// ѻͼӰصû
+		// 柱子在平台中央时也不绘制阴影
+		// 堆积图画阴影有重叠，不好画
 		return prop.isDrawShade();
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty同名方法
 	 * @return
 	 */
 	public boolean isRaisedBorder() {
@@ -1190,7 +1190,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * οPublicPropertyͬ
+	 * 参考PublicProperty同名方法
 	 * @return
 	 */
 	public boolean getFlag(byte key) {
@@ -1198,26 +1198,26 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ȡͼ
-	 * @return ö
+	 * 取背景图配置
+	 * @return 配置对象
 	 */
 	public BackGraphConfig getBackGraphConfig() {
 		return bgc;
 	}
 
 	/**
-	 * ñͼ
-	 * @param bgc ö
+	 * 设置背景图配置
+	 * @param bgc 配置对象
 	 */
 	public void setBackGraphConfig(BackGraphConfig bgc) {
 		this.bgc = bgc;
 	}
 
 	/**
-	 * ͼεİ汾7ʱͼξε4߷ֱòͬɫ ʱԭAxisColorϣ˳Ϊ AXIS_ID
-	 * ΪGraphPropertyжAXIS_ͷĳ
+	 * 图形的版本到了7时，允许图形矩形的4边分别设置不同的颜色 此时原来的AxisColor则作废，顺序依次为上下左右 AXIS_ID
+	 * 为GraphProperty中定义的AXIS_开头的常量
 	 * 
-	 * @return Color, ΪNullʾΪ͸ɫ
+	 * @return Color, 如果为Null则表示为透明色
 	 */
 	public Color getAxisColor(int AXIS_ID) {
 		int c = prop.getAxisColors()[AXIS_ID];
@@ -1229,89 +1229,89 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͳͼ
+	 * 设置统计图类型
 	 * 
 	 * @param type
-	 *            ͳͼͣGraphTypesеĳ
+	 *            统计图类型，由GraphTypes中的常量定义
 	 */
 	public void setType(byte type) {
 		graphType = type;
 	}
 
 	/**
-	 * ɫ
+	 * 设置坐标轴颜色
 	 * 
 	 * @param color
-	 *            ɫ
+	 *            坐标轴颜色
 	 */
 	public void setAxisColor(int color) {
 		prop.setAxisColor(color);
 	}
 
 	/**
-	 * ȫͼɫ
+	 * 设置全图背景颜色
 	 * 
 	 * @param color
-	 *            ȫͼɫ
+	 *            　全图背景颜色
 	 */
 	public void setCanvasColor(int color) {
 		prop.setCanvasColor(color);
 	}
 
 	/**
-	 * ͼɫ
+	 * 设置图形区背景颜色
 	 * 
 	 * @param color
-	 *            ͼɫ
+	 *            　图形区背景颜色
 	 */
 	public void setGraphBackColor(int color) {
 		prop.setGraphBackColor(color);
 	}
 
 	/**
-	 * ͳͼ
+	 * 设置统计图分类
 	 * 
 	 * @param categorys
-	 *            (ExtGraphProperty ) ͳͼ
+	 *            　(ExtGraphProperty ) 统计图分类
 	 */
 	public void setCategories(ArrayList categorys) {
 		this.categories = categorys;
 	}
 
 	/**
-	 * ú
+	 * 设置横轴标题
 	 * 
 	 * @param title
-	 *            
+	 *            横轴标题
 	 */
 	public void setXTitle(String title) {
 		this.xTitle = title;
 	}
 
 	/**
-	 * 
+	 * 设置纵轴标题
 	 * 
 	 * @param title
-	 *            
+	 *            纵轴标题
 	 */
 	public void setYTitle(String title) {
 		this.yTitle = title;
 	}
 
 	/**
-	 * ͳͼ
+	 * 设置统计图标题
 	 * 
-	 * @return titleͳͼ
+	 * @return title　统计图标题
 	 */
 	public void setGraphTitle(String title) {
 		this.graphTitle = title;
 	}
 
 	/**
-	 * 
+	 * 设置网格线类型
 	 * 
 	 * @param type
-	 *            ֵͣΪLINE_NONE, LINE_SOLID, LINE_LONG_DASH,
+	 *            　网格线类型，值为LINE_NONE, LINE_SOLID, LINE_LONG_DASH,
 	 *            LINE_SHORT_DASH, LINE_DOT_DASH, LINE_2DOT_DASH
 	 */
 	public void setGridLineType(byte type) {
@@ -1319,20 +1319,20 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ɫ
+	 * 设置网格线颜色
 	 * 
 	 * @param color
-	 *            ɫ
+	 *            　网格线颜色
 	 */
 	public void setGridLineColor(int color) {
 		prop.setGridLineColor(color);
 	}
 
 	/**
-	 * ͼͼ
+	 * 设置柱形图或条形图间距
 	 * 
 	 * @param distance
-	 *            ͼͼ
+	 *            　柱形图或条形图间距
 	 */
 	public void setBarDistance(double distance) {
 		userSetStatus |= BAR_DISTANCE;
@@ -1340,17 +1340,17 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͼθʽ
+	 * 设置图形格式
 	 * 
 	 * @param format
-	 *            ͼθʽ, ֵΪIMAGE_JPG, IMAGE_GIF, IMAGE_PNG
+	 *            　图形格式, 值为IMAGE_JPG, IMAGE_GIF, IMAGE_PNG
 	 */
 	public void setImageFormat(byte format) {
 		prop.setImageFormat(format);
 	}
 
 	/**
-	 * ͼǷ͸
+	 * 设置图形是否透明
 	 * 
 	 * @param b
 	 */
@@ -1359,7 +1359,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * Ƿ񽥱ɫ
+	 * 设置是否渐变色
 	 * 
 	 * @param b
 	 */
@@ -1368,10 +1368,10 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ǰNݻͼ
+	 * 设置用前N条数据画图
 	 * 
 	 * @param n
-	 *            ǰN
+	 *            　前N条数据
 	 */
 	public void setTopData(int n) {
 		userSetStatus |= TOP_DATA_N;
@@ -1379,20 +1379,20 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͳͼ
+	 * 设置统计图字体
 	 * 
 	 * @param font
-	 *            ͳͼ
+	 *            　统计图字体
 	 */
 	public void setFonts(GraphFonts font) {
 		prop.setFonts(font);
 	}
 
 	/**
-	 * ͼʾ
+	 * 设置图中显示数据
 	 * 
 	 * @param data
-	 *            ͼʾݣֵΪDISPDATA_NONE, DISPDATA_VALUE, DISPDATA_PERCENTAGE
+	 *            　图中显示数据，值为DISPDATA_NONE, DISPDATA_VALUE, DISPDATA_PERCENTAGE
 	 */
 	public void setDisplayData(byte data) {
 		prop.setDisplayData(data);
@@ -1402,10 +1402,10 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͼʾݸʽ
+	 * 设置图中显示数据格式
 	 * 
 	 * @param format
-	 *            ͼʾݸʽ
+	 *            　图中显示数据格式
 	 */
 	public void setDisplayDataFormat1(String format) {
 		this.dataFormat1 = format;
@@ -1416,30 +1416,30 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͳͼ
+	 * 设置统计图超链接
 	 * 
 	 * @param link
-	 *            ͳͼ
+	 *            　统计图超链接
 	 */
 	public void setLink(String link) {
 		this.link = link;
 	}
 
 	/**
-	 * ͳͼĿ괰
+	 * 设置统计图超链接目标窗口
 	 * 
 	 * @param target
-	 *            ͳͼĿ괰
+	 *            　统计图超链接目标窗口
 	 */
 	public void setLinkTarget(String target) {
 		this.linkTarget = target;
 	}
 
 	/**
-	 * ͳͼͼλ
+	 * 设置统计图的图例位置
 	 * 
 	 * @param location
-	 *            ͳͼͼλãֵΪLEGEND_LEFT, LEGEND_RIGHT, LEGEND_TOP,
+	 *            　统计图的图例位置，值为LEGEND_LEFT, LEGEND_RIGHT, LEGEND_TOP,
 	 *            LEGEND_BOTTOM, LEGEND_NONE
 	 */
 	public void setLegendLocation(byte location) {
@@ -1447,20 +1447,20 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͳͼɫ
+	 * 设置统计图的配色方案名
 	 * 
 	 * @param config
-	 *            ͳͼɫ
+	 *            　统计图的配色方案名
 	 */
 	public void setPalette(Palette palette) {
 		this.palette = palette;
 	}
 
 	/**
-	 * ͳֵʼֵ
+	 * 设置统计值起始值
 	 * 
 	 * @param value
-	 *            ͳֵʼֵ
+	 *            　统计值起始值
 	 */
 	public void setYStartValue1(double value) {
 		userSetStatus |= Y_START_VALUE1;
@@ -1473,10 +1473,10 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͳֵֵ
+	 * 设置统计值结束值
 	 * 
 	 * @param value
-	 *            ͳֵֵ
+	 *            　统计值结束值
 	 */
 	public void setYEndValue1(double value) {
 		userSetStatus |= Y_END_VALUE1;
@@ -1489,10 +1489,10 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͳֵǩ
+	 * 设置统计值标签间隔
 	 * 
 	 * @param interval
-	 *            ͳֵǩ
+	 *            　统计值标签间隔
 	 */
 	public void setYInterval1(double interval) {
 		userSetStatus |= Y_INTERVAL1;
@@ -1505,10 +1505,10 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͳֵλ
+	 * 设置统计值数量单位
 	 * 
 	 * @param unit
-	 *            ͳֵλֵΪUNIT_ORIGIN, UNIT_AUTO, UNIT_THOUSAND,
+	 *            　统计值数量单位，值为UNIT_ORIGIN, UNIT_AUTO, UNIT_THOUSAND,
 	 *            UNIT_10THOUSAND, UNIT_MILLION, UNIT_10MILLION,
 	 *            UNIT_100MILLION, UNIT_BILLION, UNIT_001, UNIT_0001,
 	 *            UNIT_00001, UNIT_0000001
@@ -1518,10 +1518,10 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͳֵٿ̶
+	 * 设置统计值最少刻度数
 	 * 
 	 * @param mark
-	 *            ͳֵٿ̶
+	 *            统计值最少刻度数
 	 */
 	public void setYMinMarks(int mark) {
 		userSetStatus |= Y_MIN_MARK;
@@ -1529,10 +1529,10 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ñͼ֮ļ
+	 * 设置标题与图形之间的间距
 	 * 
 	 * @param margin
-	 *            ͼ֮ļ
+	 *            　标题与图形之间的间距
 	 */
 	public void setTitleMargin(double margin) {
 		userSetStatus |= TITLE_MARGIN;
@@ -1540,7 +1540,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ͼǷעݵ
+	 * 设置折线图是否标注数据点
 	 * 
 	 * @param b
 	 */
@@ -1549,7 +1549,7 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ֵǩصʱǷʾһֵǩ
+	 * 设置相邻数值或标签重叠时是否显示后一数值或标签
 	 * 
 	 * @param b
 	 */
@@ -1558,10 +1558,10 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ÷ǩ
+	 * 设置分类轴标签间隔
 	 * 
 	 * @param interval
-	 *            ǩ
+	 *            　分类轴标签间隔
 	 */
 	public void setXInterval(double interval) {
 		userSetStatus |= X_INTERVAL;
@@ -1569,20 +1569,20 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ʱͼ
+	 * 设置时间走势图横轴
 	 * 
 	 * @param value
-	 *            (TimeTrendXValue )ʱͼ
+	 *            (TimeTrendXValue )　时间走势图横轴
 	 */
 	public void setTimeTrendXValues(ArrayList value) {
 		this.ttXValues = value;
 	}
 
 	/**
-	 * ʱ״̬ͼͼ״̬
+	 * 设置时序状态图或甘特图状态条宽度
 	 * 
 	 * @param width
-	 *            ʱ״̬ͼͼ״̬
+	 *            时序状态图或甘特图状态条宽度
 	 */
 	public void setStatusBarWidth(int width) {
 		userSetStatus |= STATUS_BAR_WIDTH;
@@ -1590,10 +1590,10 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ʱ״̬ͼͼʱ̶
+	 * 设置时序状态图或甘特图时间刻度类型
 	 * 
 	 * @param type
-	 *            ʱ״̬ͼͼʱ̶ͣȡֵΪTIME_YEAR, TIME_MONTH, TIME_DAY, TIME_HOUR,
+	 *            时序状态图或甘特图时间刻度类型，取值为TIME_YEAR, TIME_MONTH, TIME_DAY, TIME_HOUR,
 	 *            TIME_MINUTE, TIME_SECOND
 	 */
 	public void setStatusTimeType(byte type) {
@@ -1612,7 +1612,7 @@ public class ExtGraphProperty {
 				val = stackedVal;
 			}
 		}
-		if (is2YGraph()) {// ˫ͼʱѻֻ1
+		if (is2YGraph()) {// 双轴图时，仅有左轴堆积，所以只计算分类1
 			return val;
 		}
 		if (category2 != null) {
@@ -1652,33 +1652,33 @@ public class ExtGraphProperty {
 	}
 
 	/**
-	 * ҳඨеֵ
-	 * @param cats 
-	 * @return ֵ
+	 * 找出分类定义中的最大值
+	 * @param cats 分类
+	 * @return 最大值
 	 */
 	public double getMaxValue(ArrayList cats) {
 		return getTerminalValue(true, cats);
 	}
 
 	/**
-	 * ҳඨеСֵ
-	 * @param cats 
-	 * @return Сֵ
+	 * 找出分类定义中的最小值
+	 * @param cats 分类
+	 * @return 最小值
 	 */
 	public double getMinValue(ArrayList cats) {
 		return getTerminalValue(false, cats);
 	}
 
 	/**
-	 * otherΪϵ
-	 * @param other ϵ
+	 * 将other设置为其他系列
+	 * @param other 系列名称
 	 */
 	public void setOtherStackedSeries(String other) {
 		prop.setOtherStackedSeries(other);
 	}
 /**
- * ȡϵ
- * @return 
+ * 获取其他系列
+ * @return 其他
  */
 	public String getOtherStackedSeries() {
 		return prop.getOtherStackedSeries();
@@ -1738,92 +1738,92 @@ public class ExtGraphProperty {
 		}
 	}
 
-	/**  */
+	/** 横轴标题 */
 	private String xTitle;
 
-	/**  */
+	/** 纵轴标题 */
 	private String yTitle;
 
-	/** ͳͼ */
+	/** 统计图标题 */
 	private String graphTitle;
 
-	/**  */
-	/** ͼͼ */
+	/** 网格线类型 */
+	/** 柱形图或条形图间距 */
 	private double barDistance = 0.0;
 
-	/** ǰNݻͼ */
+	/** 用前N条数据画图 */
 	private int topN = 0; //
 
-	/** ߶ */
+	/** 警戒线定义 */
 	private ArrayList alarms = null;
 
-	/** ͳͼ */
+	/** 统计图超链接 */
 	private String link;
 
-	/** ͳͼĿ괰 */
+	/** 统计图超链接目标窗口 */
 	private String linkTarget;
 
-	/** ͳͼɫ */
+	/** 统计图的配色方案名 */
 	private Palette palette;
 
-	/** ͼ֮ļ */
+	/** 标题与图形之间的间距 */
 	private double titleMargin;
 
-	/** ʱͼȡֵ */
+	/** 时间走势图横轴取值 */
 	private ArrayList ttXValues;
 
-	/** ʱ״̬ͼͼ״̬ */
+	/** 时序状态图或甘特图状态条宽度 */
 	private int statusBarWidth;
 
-	/** ͼͼ */
+	/** 柱形图或条形图间距 */
 	private static final short BAR_DISTANCE = (short) 0x01;
 
-	/** ǰNݻͼ */
+	/** 用前N条数据画图 */
 	private static final short TOP_DATA_N = (short) 0x02;
 
-	/** ͳֵʼֵ */
+	/** 统计值起始值 */
 	private static final short Y_START_VALUE1 = (short) 0x04;
 	private static final short Y_START_VALUE2 = (short) 0x08;
 
-	/** ͳֵֵ */
+	/** 统计值结束值 */
 	private static final short Y_END_VALUE1 = (short) 0x10;
 	private static final short Y_END_VALUE2 = (short) 0x20;
 
-	/** ͳֵǩ */
+	/** 统计值标签间隔 */
 	private static final short Y_INTERVAL1 = (short) 0x40;
 	private static final short Y_INTERVAL2 = (short) 0x80;
 
-	/** ͳֵٿ̶ */
+	/** 统计值最少刻度数 */
 	private static final short Y_MIN_MARK = (short) 0x100;
 
-	/** ͼ֮ļ */
+	/** 标题与图形之间的间距 */
 	private static final short TITLE_MARGIN = (short) 0x200;
 
-	/** ǩ */
+	/** 分类轴标签间隔 */
 	private static final short X_INTERVAL = (short) 0x400;
 
-	/** ʱ״̬ͼͼ״̬ */
+	/** 时序状态图或甘特图状态条宽度 */
 	private static final short STATUS_BAR_WIDTH = (short) 0x800;
 
-	private short userSetStatus = 0; // ûǷø
+	private short userSetStatus = 0; // 用户是否设置该属性
 
 	private double yStartValue1 = 0;
-	/** ͳֵʼֵ */
+	/** 统计值起始值 */
 	private double yStartValue2 = 0;
 	private double yEndValue1 = 0;
-	/** ͳֵֵ */
+	/** 统计值结束值 */
 	private double yEndValue2 = 0;
 	private double yInterval1 = 0;
-	/** ͳֵǩ */
+	/** 统计值标签间隔 */
 	private double yInterval2 = 0;
 	private int yMinMarks = 0;
-	/** ͳֵٿ̶ */
+	/** 统计值最少刻度数 */
 	private double xInterval = 0;
-	/** ǩ */
+	/** 分类轴标签间隔 */
 	private String dataFormat1;
-	/** ͼʾݸʽ */
+	/** 图中显示数据格式定义 */
 	private String dataFormat2;
-	/** ͼʾݸʽ */
+	/** 图中显示数据格式定义 */
 	private byte graphType;
 	private IGraphProperty prop;
 }
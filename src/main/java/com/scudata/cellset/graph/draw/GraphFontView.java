@@ -8,8 +8,8 @@ import com.scudata.chart.Utils;
 import com.scudata.common.*;
 
 /**
- * ͼͼ
- * װϢͼ
+ * 图形字体视图
+ * 封装了字体各类相关信息的字体视图
  * @author Joancy
  *
  */
@@ -21,31 +21,31 @@ public class GraphFontView {
 	public static final byte FONT_XTITLE = 4;
 	public static final byte FONT_YTITLE = 5;
 	public static final byte FONT_VALUE = 6;
-	public static final byte TEXT_FIXED = 0; // ֲУ׼
-	public static final byte TEXT_ON_TOP = 1; // λĵϷ
-	public static final byte TEXT_ON_BOTTOM = 2; // λĵ·
-	public static final byte TEXT_ON_LEFT = 3; // λĵ
-	public static final byte TEXT_ON_RIGHT = 4; // λĵұ
-	public static final byte TEXT_ON_CENTER = 5; // λĵ
+	public static final byte TEXT_FIXED = 0; // 文字不作校准
+	public static final byte TEXT_ON_TOP = 1; // 文字位于中心点上方
+	public static final byte TEXT_ON_BOTTOM = 2; // 文字位于中心点下方
+	public static final byte TEXT_ON_LEFT = 3; // 文字位于中心点左边
+	public static final byte TEXT_ON_RIGHT = 4; // 文字位于中心点右边
+	public static final byte TEXT_ON_CENTER = 5; // 文字位于中心点
 
 	DrawBase db;
 	public String text = "";
-	public String text2 = ""; // ͼY2
+	public String text2 = ""; // 两轴图的Y2轴标题
 	public Font font;
 	public Color color;
 	public boolean vertical = false;
-	public int angle; // תǶ
+	public int angle; // 文字旋转角度
 
-	// ֵȱʡλ
+	// 文字的缺省对齐位置
 	byte textPosition = TEXT_FIXED;
-	private boolean allowIntersect = true; // Ƿڵֵص
+	private boolean allowIntersect = true; // 是否允许相邻的数值重叠输出
 
-	// Rectangle PA = null; //һı PreArea
-	ArrayList fontRects = new ArrayList(); // ľζholdֹصʱҪռȽϣϰ취ֻ
+	// Rectangle PA = null; //上一个输出文本区域 PreArea
+	ArrayList fontRects = new ArrayList(); // 所有输出过的矩形都hold，禁止重叠输出时要与所有已占区间比较，老办法是只比相邻区间
 
 	/**
-	 * ͼ
-	 * @param drawBase ͼλʵ
+	 * 构造字体视图对象
+	 * @param drawBase 图形绘制实例
 	 */
 	public GraphFontView(DrawBase drawBase) {
 		this.db = drawBase;
@@ -53,9 +53,9 @@ public class GraphFontView {
 	}
 
 	/**
-	 * 뷴
-	 * @param direction 뷽ʽ
-	 * @return 뷽ʽҪȻǵǰ뷽ʽ
+	 * 将字体对齐反向
+	 * @param direction 对齐方式
+	 * @return 反向对齐方式，不需要反向的仍然是当前对齐方式
 	 */
 	public static byte reverseDirection(byte direction) {
 		switch (direction) {
@@ -76,48 +76,48 @@ public class GraphFontView {
 	}
 
 	/**
-	 * 
-	 * @param font 
+	 * 设置字体对象
+	 * @param font 字体对象
 	 */
 	public void setFont(Font font) {
 		this.font = font;
 	}
 
 	/**
-	 * ûıʱǷص
-	 * @param allowIntersect ص
+	 * 设置绘制文本时，是否允许跟别的文字重叠
+	 * @param allowIntersect 允许重叠
 	 */
 	public void setIntersect(boolean allowIntersect) {
 		this.allowIntersect = allowIntersect;
 	}
 
 	/**
-	 * ɫ
-	 * @param color ɫ
+	 * 设置颜色
+	 * @param color 颜色
 	 */
 	public void setColor(Color color) {
 		this.color = color;
 	}
 
 	/**
-	 * Ƿ
-	 * @param vertical 
+	 * 设置文字是否竖向排列
+	 * @param vertical 竖向排列
 	 */
 	public void setVertical(boolean vertical) {
 		this.vertical = vertical;
 	}
 
 	/**
-	 * ıתǶ
-	 * @param angle Ƕ
+	 * 设置文本的旋转角度
+	 * @param angle 角度
 	 */
 	public void setAngle(int angle) {
 		this.angle = angle;
 	}
 
 	/**
-	 * ʾı
-	 * @param text ı
+	 * 设置显示文本
+	 * @param text 文本串
 	 */
 	public void setText(String text) {
 		if (text == null) {
@@ -125,7 +125,7 @@ public class GraphFontView {
 		}
 		if (db.egp.is2YGraph()) {
 			int pos = -1;
-			//ֻ׼÷ֺţǵ÷ֿıʽ
+			//只准许用分号，考虑到还可以用分开的表达式
 			if (pos < 0) {
 				pos = text.indexOf(';');
 			}
@@ -141,33 +141,33 @@ public class GraphFontView {
 	}
 
 	/**
-	 * Բβʱķλ״ͼ
-	 * @param pos λ
+	 * 设置文字在圆形布局时的方位，用于雷达图
+	 * @param pos 方位
 	 */
 	public void setTextPosition(byte pos) {
 		this.textPosition = pos;
 	}
 	
 	/**
-	 * ǰı
-	 * @param x 
-	 * @param y 
+	 * 在坐标出输出当前文本
+	 * @param x 横坐标
+	 * @param y 纵坐标
 	 */
 	public void outText(double x, double y) {
 		outText(x, y, text);
 	}
 
 	/**
-	 * úXǩintervalǷ
+	 * 该函数方便X轴标签根据interval决定是否画文字
 	 * 
 	 * @param x
-	 *            int 
+	 *            int 横坐标
 	 * @param y
-	 *            int 
+	 *            int 纵坐标
 	 * @param text
-	 *            String ı
+	 *            String 文本
 	 * @param visible
-	 *            boolean Ƿɼ
+	 *            boolean 是否可见
 	 */
 	public void outText(double x, double y, String text, boolean visible) {
 		if (visible) {
@@ -176,12 +176,12 @@ public class GraphFontView {
 	}
 
 	/**
-	 * ı
-	 * @param x 
-	 * @param y 
-	 * @param text ı
-	 * @param visible ɼ
-	 * @param direction λ
+	 * 输出文本
+	 * @param x 横坐标
+	 * @param y 纵坐标
+	 * @param text 文本
+	 * @param visible 可见
+	 * @param direction 方位
 	 */
 	public void outText(double x, double y, String text, boolean visible,
 			byte direction) {
@@ -191,20 +191,20 @@ public class GraphFontView {
 	}
 
 	/**
-	 * ı
+	 * 输出文本
 	 * @param text 
-	 *            String ı
+	 *            String 文本
 	 * @param x
-	 *            double ıʱ½x
+	 *            double 文本输出时的左下角x
 	 * @param y
-	 *            double ıʱ½y
+	 *            double 文本输出时的左下角y
 	 */
 	public boolean outText(double x, double y, String text) {
 		return outText(x, y, text, textPosition);
 	}
 
 	private Rectangle intersects(Rectangle newRect) {
-		// ҪӺǰңҵһص
+		// 要从后往前找，找到最后一个重叠区域
 		for (int i = fontRects.size() - 1; i >= 0; i--) {
 			Rectangle rect = (Rectangle) fontRects.get(i);
 			if (rect.intersects(newRect)) {
@@ -215,37 +215,37 @@ public class GraphFontView {
 	}
 
 	/**
-	 * ı
-	 * @param x 
-	 * @param y 
-	 * @param text ı
-	 * @param tmpColor ɫ
-	 * @return ɷtrue򷵻false
+	 * 输出文本
+	 * @param x 横坐标
+	 * @param y 纵坐标
+	 * @param text 文本
+	 * @param tmpColor 颜色
+	 * @return 绘制完成返回true，否则返回false
 	 */
 	public boolean outText(double x, double y, String text, Color tmpColor) {
 		return outText(x, y, text, textPosition, tmpColor);
 	}
 
 	/**
-	 * ı
-	 * @param x 
-	 * @param y 
-	 * @param text ı
-	 * @param direction λ
-	 * @return ɷtrue򷵻false
+	 * 输出文本
+	 * @param x 横坐标
+	 * @param y 纵坐标
+	 * @param text 文本
+	 * @param direction 方位
+	 * @return 绘制完成返回true，否则返回false
 	 */
 	public boolean outText(double x, double y, String text, byte direction) {
 		return outText(x, y, text, direction, color);
 	}
 
 	/**
-	 * ı
-	 * @param x 
-	 * @param y 
-	 * @param text ı
-	 * @param direction λ 
-	 * @param textColor ɫ
-	 * @return ıtrue򷵻false
+	 * 输出文本
+	 * @param x 横坐标
+	 * @param y 纵坐标
+	 * @param text 文本
+	 * @param direction 方位 
+	 * @param textColor 颜色
+	 * @return 绘制了文本返回true，否则返回false
 	 */
 
 	public boolean outText(double x, double y, String text, byte direction,
@@ -260,7 +260,7 @@ public class GraphFontView {
 		if (vertical || angle == 0) {
 			TA = getTextSize(text);
 		} else {
-			vertical = true; // תǶȵʱ,üǷཻ
+			vertical = true; // 文字有旋转角度的时候,得计算假设竖排文字是否相交
 			TA = getTextSize(text);
 			vertical = false;
 		}
@@ -268,8 +268,8 @@ public class GraphFontView {
 		Point rop = getActualTextPoint((int)x, (int)y, direction, TA, fm, text); 
 		TA.x = rop.x;
 		TA.y = rop.y;
-		if (textColor != color) { // ɫ༭ɫһʱʾʹϵеĶ̬ɫֱǩ״̬
-			// жصصʱ΢λɫͬλԿԷֱ
+		if (textColor != color) { // 当输出颜色跟编辑的颜色不一致时，表示使用了系列的动态颜色来区分标签，该状态下
+			// 不判断重叠，真有重叠时，让坐标稍微错下位，由于颜色不同，错位后，仍可以分辨出来
 			Rectangle rect = intersects(TA);
 			if (rect != null) {
 				if (TA.y <= rect.y) {
@@ -289,13 +289,13 @@ public class GraphFontView {
 
 		db.g.setColor(textColor);
 		db.g.setFont(font);
-//		нֹرanti֤еߺֶƽ
-//		Ҫƽԣĳɻʱرվݣָƽ
+//		程序中禁止关闭anti，保证所有的线和文字都是平滑的
+//		文字要求不平滑，看起来更清晰，所以，改成绘制文字时关闭锯齿，绘制完后恢复平滑
 		Composite com = db.g.getComposite();
 		Utils.setGraphAntiAliasingOff(db.g);
 //		db.g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
 //				RenderingHints.VALUE_ANTIALIAS_OFF);
-		// ʹԭ 1,͸ʱͻ2ĳɫȻ
+		// 不能使用异或输出，两个原因： 1,透明背景时异或根本就画不出来；2，异或总有某个相近的颜色异或后仍然不清晰
 
 		x = TA.x;
 		y = TA.y;
@@ -340,7 +340,7 @@ public class GraphFontView {
 		
 		Utils.setGraphAntiAliasingOn(db.g);
 
-//		ϣٻָƽ
+//		文字输出完毕，再恢复平滑
 //		db.g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
 //				RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -418,7 +418,7 @@ public class GraphFontView {
 				y += aSize.height / 2;
 				break;
 			case TEXT_ON_CENTER:
-				//תʱ 
+				//旋转的中心暂时不考虑 
 				break;
 			}
 		}
@@ -443,17 +443,17 @@ public class GraphFontView {
 	}
 
 	/**
-	 * ȡǰıռ
-	 * @return ı
+	 * 获取当前文本所占区域
+	 * @return 矩形描述文本区域
 	 */
 	public Rectangle getTextSize() {
 		return getTextSize(text);
 	}
 
 	/**
-	 * ȡָıٵǰµռ
-	 * @param text ı
-	 * @return 
+	 * 获取指定文本再当前字体下的所占区域
+	 * @param text 文本
+	 * @return 矩形区域
 	 */
 	public Rectangle getTextSize(String text) {
 		if (text == null) {
@@ -474,7 +474,7 @@ public class GraphFontView {
 		}
 		Rectangle area = new Rectangle();
 		FontMetrics fm = db.g.getFontMetrics(font);
-		int hh = fm.getAscent() + 2; // ּ2ļ϶
+		int hh = fm.getAscent() + 2; // 竖排文字间有2个点的间隙
 		area.width = fm.stringWidth(text.substring(0, 1));
 		area.height = hh * text.length();
 		return area;
@@ -486,7 +486,7 @@ public class GraphFontView {
 		int hw = fm.stringWidth(text);
 		int hh = fm.getAscent();
 		area.width = hw;
-		area.height = hh - fm.getLeading() - 2;// ˵AscentѾֻϲռˣʵǶˣ΢һ2
+		area.height = hh - fm.getLeading() - 2;// 按理来说Ascent就已经是文字基线上部空间了，但实测是多了，微调一下2
 		return area;
 	}
 
@@ -499,11 +499,11 @@ public class GraphFontView {
 		FontMetrics fm = db.g.getFontMetrics(font);
 		int hw = fm.stringWidth(text);
 		int hh = fm.getAscent();
-		double djx =  Math.sqrt(hw * hw + hh * hh); // Խ߳
-		double textAngle = Math.atan(hh / (hw * 1.0f)), tmpAngle; // ֱĶԽױߵĽǶ
-																	// λ
+		double djx =  Math.sqrt(hw * hw + hh * hh); // 对角线长度
+		double textAngle = Math.atan(hh / (hw * 1.0f)), tmpAngle; // 文字本身的对角线与底边的角度
+																	// 单位：弧度
 		int aw, ah;
-		// ǾΣhwתǶȵõ߶ȣöԽȥת
+		// 文字是矩形，不能用hw旋转角度得到高度，得用对角线去旋转
 		tmpAngle = textAngle + Math.toRadians(angle);
 		ah = (int) (djx * Math.sin(tmpAngle));
 
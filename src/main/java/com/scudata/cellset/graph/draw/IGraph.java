@@ -1,14 +1,14 @@
 package com.scudata.cellset.graph.draw;
 
 /**
- * ͳͼνӿ
+ * 统计图形接口
  * @author Joancy
  *
  */
 public interface IGraph {
 	/**
-	 * ͼλƷ
-	 * @param htmlLink ӻ
+	 * 图形绘制方法
+	 * @param htmlLink 超链接缓冲
 	 */
   public void draw( StringBuffer htmlLink );
 }
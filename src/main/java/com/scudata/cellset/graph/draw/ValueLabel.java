@@ -3,8 +3,8 @@ package com.scudata.cellset.graph.draw;
 import java.awt.*;
 import java.awt.geom.Point2D;
 /**
- * ıǩķװ
- * ͼʱıֵҪͳһԷֹ
+ * 文本标签的封装类
+ * 绘制图形时，文本值需要在最后统一绘制以防止被覆盖
  * @author Joancy
  *
  */
@@ -15,10 +15,10 @@ public class ValueLabel {
   public byte direction=GraphFontView.TEXT_ON_TOP;
 
   /**
-   * һıǩ
-   * @param text ıֵ
-   * @param p 
-   * @param c ɫ
+   * 构造一个文本标签对象
+   * @param text 文本值
+   * @param p 坐标
+   * @param c 颜色
    */
   public ValueLabel(String text, Point2D.Double p, Color c) {
 	this.text = text;
@@ -27,11 +27,11 @@ public class ValueLabel {
   }
 
   /**
-   * һıǩ
-   * @param text ıֵ
-   * @param p 
-   * @param c ɫ
-   * @param textDirection λ
+   * 构造一个文本标签对象
+   * @param text 文本值
+   * @param p 坐标
+   * @param c 颜色
+   * @param textDirection 方位
    */
   public ValueLabel(String text, Point2D.Double p, Color c,byte textDirection) {
 	this.text = text;
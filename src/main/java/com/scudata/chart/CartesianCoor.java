@@ -5,34 +5,34 @@ import java.awt.geom.Point2D;
 import com.scudata.chart.element.*;
 
 /**
- * һڻͼ߼ֱϵ
+ * 构造一个用于绘图的逻辑直角坐标系
  * 
  * @author Joancy
  *
  */
 public class CartesianCoor implements ICoor {
-	// ϵ̶ᣬ᱾ỹᣬϵвᣬֻҪϵֱкἴ
+	// 构成坐标系的两根刻度轴，由于轴本身定义横轴还是纵轴，所以坐标系中不命名横轴纵轴，只要组合的两个轴分别有横轴纵轴即可
 	TickAxis a1, a2;
 
 	/**
-	 * õһ̶
-	 * @param axis	̶
+	 * 设置第一根刻度轴
+	 * @param axis	刻度轴
 	 */
 	public void setAxis1(TickAxis axis) {
 		this.a1 = axis;
 	}
 
 	/**
-	 * ȡһ̶
-	 * @return ̶1
+	 * 获取第一根刻度轴
+	 * @return 刻度轴1
 	 */
 	public TickAxis getAxis1() {
 		return a1;
 	}
 
 	/**
-	 * ȡxᣬҲ
-	 * @return ϵx
+	 * 获取x轴，也即横轴
+	 * @return 坐标系的x轴
 	 */
 	public TickAxis getXAxis() {
 		if (a1.getLocation() == Consts.AXIS_LOC_H) {
@@ -42,24 +42,24 @@ public class CartesianCoor implements ICoor {
 	}
 
 	/**
-	 * õڶ̶
-	 * @param axis	̶
+	 * 设置第二根刻度轴
+	 * @param axis	刻度轴
 	 */
 	public void setAxis2(TickAxis axis) {
 		this.a2 = axis;
 	}
 
 	/**
-	 * ȡڶ̶
-	 * @return ̶2
+	 * 获取第二根刻度轴
+	 * @return 刻度轴2
 	 */
 	public TickAxis getAxis2() {
 		return a2;
 	}
 
 	/**
-	 * ȡyᣬҲ
-	 * @return ϵy
+	 * 获取y轴，也即纵轴
+	 * @return 坐标系的y轴
 	 */
 	public TickAxis getYAxis() {
 		if (a1.getLocation() == Consts.AXIS_LOC_V) {
@@ -69,10 +69,10 @@ public class CartesianCoor implements ICoor {
 	}
 
 	/**
-	 * Ӧ߼ֵ
-	 * @param val1	Ӧ1߼ֵ
-	 * @param val2	Ӧ2߼ֵ
-	 * @return Point2D Ϊdouble
+	 * 计算相对应两根轴的逻辑值的物理坐标
+	 * @param val1	对应1轴的逻辑值
+	 * @param val2	对应2轴的逻辑值
+	 * @return Point2D 精度为double的物理坐标
 	 */
 	public Point2D getScreenPoint(Object val1, Object val2) {
 		double i1 = a1.getValueLen(val1);
@@ -89,7 +89,7 @@ public class CartesianCoor implements ICoor {
 	}
 
 	/**
-	 * 3dƫ,öᣬȡöthickRateȡaxis1ĸֵ
+	 * 3d偏移坐标量,如果有枚举轴，则取枚举轴的thickRate，否则取axis1的该值；
 	 * 
 	 * @return int 
 	 */
@@ -122,9 +122,9 @@ public class CartesianCoor implements ICoor {
 	}
 
 	/**
-	 * ȡϵеֵᣬ÷ͨöֵϵϵʱᶼֵᣬֻ1ᡣ
+	 * 获取坐标系中的数值轴，该方法通常用于枚举轴跟数值轴组合的坐标系时，如果两根轴都是数值轴，则只返回1轴。
 	 * 
-	 * @return ֵ
+	 * @return 数值轴
 	 */
 	public NumericAxis getNumericAxis() {
 		TickAxis axis = getAxis(this, NumericAxis.class);
@@ -134,9 +134,9 @@ public class CartesianCoor implements ICoor {
 	}
 
 	/**
-	 * ȡϵеöᣬ÷ͬgetNumericAxis
+	 * 获取坐标系中的枚举轴，用法同getNumericAxis
 	 * 
-	 * @return ö
+	 * @return 枚举轴
 	 */
 	public EnumAxis getEnumAxis() {
 		TickAxis axis = getAxis(this, EnumAxis.class);
@@ -146,15 +146,15 @@ public class CartesianCoor implements ICoor {
 	}
 
 	/**
-	 * ϵϢͨڵԡ
+	 * 生成坐标系的描述信息，通常用于调试。
 	 */
 	public String toString() {
 		return "CartesianCoor Axis1:" + a1.getName() + " Axis2:" + a2.getName();
 	}
 
 	/**
-	 * жϵǷ
-	 * @return ʱtruefalse
+	 * 判断两个坐标系是否相等
+	 * @return 相等时返回true，否则false
 	 */
 	public boolean equals(Object obj) {
 		if (obj == this)
@@ -167,21 +167,21 @@ public class CartesianCoor implements ICoor {
 	}
 
 	/**
-	 * ǷΪϵ
+	 * 是否为极坐标系
 	 */
 	public boolean isPolarCoor() {
 		return false;
 	}
 
 	/**
-	 * ǷΪֱϵ
+	 * 是否为直角坐标系
 	 */
 	public boolean isCartesianCoor() {
 		return true;
 	}
 
 	/**
-	 * ǷΪöϵ
+	 * 是否为包含枚举轴的坐标系
 	 */
 	public boolean isEnumBased() {
 		TickAxis ta = getAxis1();
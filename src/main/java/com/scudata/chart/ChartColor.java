@@ -5,41 +5,41 @@ import java.awt.*;
 import com.scudata.dm.*;
 
 /**
- * ɫɫ
+ * 用于描述填充颜色的颜色类
  * @author Joancy
  *
  */
 public class ChartColor {
 	public static Integer transparentColor = new Integer(0xffffff);
-//	
+//	填充类型
 	int type = Consts.PATTERN_DEFAULT;
 	
-//ǷΪɫ
+//是否为渐变色
 	boolean isGradient = true;
 
-//	ǽɫɫ1ǽɫʱֻʹɫ1
+//	如果是渐变色，渐变色1；非渐变色时只使用颜色1
 	Color color1 = (Color) Para.getDefPalette().get(0);
 	
-//	ǽɫɫ2
+//	如果是渐变色，渐变色2
 	Color color2 = color1;
 
-	//ɫĽǶȷ	
+	//渐变色的角度方向	
 	int angle = 0;
-	// color1ΪԲģǶanglecolor2ݶ
-	// ɫ˵
-	// 1: isGradientfalseʱͼʹôɫcolor1䣻
-	// 2: 
-	// isGradienttrueʱcolor2color1ʹcolor1ΪcubeColor
-	// ʹôcolor1color2Ľɫ
+	// 以color1为圆心，按角度angle向color2梯度
+	// 颜色解释说明；
+	// 1: 当isGradient＝false时；图块使用纯色color1填充；
+	// 2: 当
+	// isGradient＝true时；color2＝＝color1，则使用color1为基础的cubeColor
+	// 否则使用从color1到color2的渐变色
 
 	/**
-	 * һȱʡɫ
+	 * 构造一个缺省的填充颜色类
 	 */
 	public ChartColor() {
 	}
 
 	/**
-	 * ʹõһɫcһ򵥵ɫ
+	 * 使用单一颜色c构造一个简单的填充颜色类
 	 */
 	public ChartColor(Color c) {
 		color1 = c;
@@ -47,49 +47,49 @@ public class ChartColor {
 	}
 
 	/**
-	 * ʹõһɫc(RGBֵ)һ򵥵ɫ
+	 * 使用单一颜色c(RGB值)构造一个简单的填充颜色类
 	 */
 	public ChartColor(int c) {
 		setColor1(c);
 		setColor2(c);
 	}
 /**
- * 
- * @param type ͲοConsts.PATTERNͷĳPATTERN_DEFAULTȱʡģʽɫ䣬ģʽںڰͼʱĸ͡
+ * 设置填充类型
+ * @param type 类型参考Consts.PATTERN开头的常量，PATTERN_DEFAULT缺省模式采用颜色填充，其他模式用于黑白图形时的各种类型。
  */
 	public void setType(int type) {
 		this.type = type;
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取填充类型
+	 * @return 填充类型
 	 */
 	public int getType() {
 		return type;
 	}
 
 /**
- * ýɫ䣬ɫʱcolor1һ㲻ܸcolor2ͬûЧ
- * @param gradient Ƿ񽥱ɫ
+ * 设置渐变色填充，渐变色时，color1一般不能跟color2相同，否则没效果
+ * @param gradient 是否渐变颜色
  */
 	public void setGradient(boolean gradient) {
 		this.isGradient = gradient;
 	}
 
 	/**
-	 * ǷΪɫ
-	 * @return ʹýɫʱtruefalse
+	 * 是否为渐变色填充
+	 * @return 使用渐变色时返回true，否则false
 	 */
 	public boolean isGradient() {
-		//õ͸ɫûźͽЧ
+		//如果设置的透明色，没有炫和渐变效果
 		if( color1==null ) return false;
 		return isGradient;
 	}
 
 	/**
-	 * ǷʹɫʹCubeColorɫָͼĸ棬ʹòͬͶȵɫʹȽš
-	 * @return ʹɫʱtruefalse
+	 * 是否使用炫颜色，即使用CubeColor，炫颜色指柱形图的各个立面，使用不同饱和度的颜色构成立体柱，使得立体柱看起来比较炫。
+	 * @return 使用炫颜色时返回true，否则false
 	 */
 	public boolean isDazzle(){
 		if( color1==null ) return false;
@@ -97,16 +97,16 @@ public class ChartColor {
 	}
 	
 	/**
-	 * ɫ1
-	 * @param color ɫֵ
+	 * 设置颜色1
+	 * @param color 颜色值
 	 */
 	public void setColor1(Color color) {
 		this.color1 = color;
 	}
 
 	/**
-	 * ʹRGBֵɫ1
-	 * @param color ɫֵ
+	 * 使用RGB值设置颜色1
+	 * @param color 颜色值
 	 */
 	public void setColor1(int color) {
 		if(color==transparentColor){
@@ -117,16 +117,16 @@ public class ChartColor {
 	}
 
 	/**
-	 * ɫ2
-	 * @param color ɫֵ
+	 * 设置颜色2
+	 * @param color 颜色值
 	 */
 	public void setColor2(Color color) {
 		this.color2 = color;
 	}
 
 	/**
-	 * ʹRGBֵɫ2
-	 * @param color ɫֵ
+	 * 使用RGB值设置颜色2
+	 * @param color 颜色值
 	 */
 	public void setColor2(int color) {
 		if(color==transparentColor){
@@ -137,40 +137,40 @@ public class ChartColor {
 	}
 
 	/**
-	 * ȡɫ1
-	 * @return Colorɫ
+	 * 获取颜色1
+	 * @return Color颜色
 	 */
 	public Color getColor1() {
 		return color1;
 	}
 
 	/**
-	 * ȡɫ2
-	 * @return Colorɫ
+	 * 获取颜色2
+	 * @return Color颜色
 	 */
 	public Color getColor2() {
 		return color2;
 	}
 
 	/**
-	 * ýɫĽǶ
-	 * @param angle Ƕֵ
+	 * 设置渐变颜色的渐变角度
+	 * @param angle 角度值
 	 */
 	public void setAngle(int angle) {
 		this.angle = angle;
 	}
 
 	/**
-	 * ȡɫĽǶ
-	 * @return Ƕֵ
+	 * 获取渐变颜色的渐变角度
+	 * @return 角度值
 	 */
 	public int getAngle() {
 		return angle;
 	}
 
 	/**
-	 * plot 
-	 * @return SPL﷨Ĵ
+	 * 将该类的属性设置生成plot函数的描述串 
+	 * @return 符合SPL语法的串描述
 	 */
 	public String toPlotString() {
 		Sequence seq = new Sequence();
@@ -192,16 +192,16 @@ public class ChartColor {
 	}
 
 	/**
-	 * ıͬtoPlotString
+	 * 生成文本串描述，同方法toPlotString
 	 */
 	public String toString() {
 		return toPlotString();
 	}
 
 	/**
-	 * SPL﷨ĴγкʵΪ
-	 * @param seq ɫ
-	 * @return ʵı
+	 * SPL语法的串描述，形成序列后，再实例化为本类
+	 * @param seq 颜色描述的序列
+	 * @return 实例化后的本类对象
 	 */
 	public static ChartColor getInstance(Sequence seq) {
 		ChartColor cc = new ChartColor();
@@ -220,8 +220,8 @@ public class ChartColor {
 	}
 
 	/**
-	 * ȿ¡һChartColor
-	 * @return ¡ɫ
+	 * 深度克隆一个ChartColor对象
+	 * @return 克隆后的填充颜色类
 	 */
 	public ChartColor deepClone() {
 		ChartColor cc = new ChartColor();
@@ -6,22 +6,22 @@ import java.util.ArrayList;
 import com.scudata.dm.*;
 
 /**
- * ɫΪĳһɫǰfronttopright 6ɫ
- * ɫ1Ϊǳɫ2Ϊɫ
- * CubeColor򣬴T1,F1,T2,F2,R1,R2
+ * 柱子配色方案，为某一种颜色配置前面front，顶面top，右面right 共6色，
+ * 其中颜色1为浅色，2为深色
+ * CubeColor的亮度排序，从亮到暗：T1,F1,T2,F2,R1,R2
  * @author Joancy
  * 
  */
 public class CubeColor {
-	// 1Ϊǳɫ2Ϊɫ;ȱʡɫΪɫ
-	Color f1 = new Color(204, 213, 194);// ɫ
+	// 1为浅色，2为深色;缺省的配色为灰色
+	Color f1 = new Color(204, 213, 194);// 正面颜色
 	Color f2 = new Color(116, 126, 104);
-	Color t1 = new Color(225, 230, 218);// ɫ
+	Color t1 = new Color(225, 230, 218);// 顶面颜色
 	Color t2 = new Color(146, 158, 130);
-	Color r1 = new Color(106, 115, 93);// Ҳɫ
+	Color r1 = new Color(106, 115, 93);// 右侧面颜色
 	Color r2 = new Color(83, 90, 73);
 	
-//	ԭʼɫ6ͶȲͬɫ
+//	由原始颜色产生上述6个饱和度不同的颜色
 	private Color origin=null;
 	float f1s = 0.55f;
 	float f2s = 0.65f;
@@ -30,14 +30,14 @@ public class CubeColor {
 	float r1s = 0.75f;
 	float r2s = 0.35f;
 	/**
-	 * һȱʡɫ
+	 * 构造一个缺省的立方体填充颜色类
 	 */
 	public CubeColor() {
 	}
 
 	/**
-	 * ʹָɫc1ɫ
-	 * @param c1 ԭʼɫ
+	 * 使用指定的颜色c1生成类防踢填充颜色类
+	 * @param c1 柱子原始颜色
 	 */
 	public CubeColor(Color c1) {
 		origin = c1;
@@ -59,26 +59,26 @@ public class CubeColor {
 	}
 
 	/**
-	 * ȡԭʼɫ
-	 * @return ɫֵ
+	 * 获取原始颜色
+	 * @return 颜色值
 	 */
 	public Color getOrigin(){
 		return origin;
 	}
 	
 	/**
-	 * ȡǰǳɫ
-	 * @return ɫֵ
+	 * 获取前面浅色
+	 * @return 颜色值
 	 */
 	public Color getF1() {
 		return f1;
 	}
 	
 	/**
-	 * ȡڶõɫȡɫԺͬ
-	 * @param relative ɫƣ(F1,F2, T1,T2, R1,R2)
-	 * @param degreeF1ɫļ
-	 * @return ɫֵ
+	 * 获取相对于定义好的颜色，取更亮几级的颜色，以后都同
+	 * @param relative 相对颜色的名称，(F1,F2, T1,T2, R1,R2)
+	 * @param degree，比F1颜色亮的级数
+	 * @return 颜色值
 	 */
 	public Color getRelativeBrighter(String relative,int degree) {
 		float deltaFactor = degree*0.05f;
@@ -102,7 +102,7 @@ public class CubeColor {
 	}
 
 	/**
-	 * οgetRelativeBrighter÷ȡɫ
+	 * 参考getRelativeBrighter用法，获取深级别的颜色
 	 * @param relative
 	 * @param degree
 	 * @return
@@ -129,56 +129,56 @@ public class CubeColor {
 	}
 
 	/**
-	 * ȡǰɫ
-	 * @return ɫֵ
+	 * 获取前面深色
+	 * @return 颜色值
 	 */
 	public Color getF2() {
 		return f2;
 	}
 
 	/**
-	 * ȡǳɫ
-	 * @return ɫֵ
+	 * 获取顶面浅色
+	 * @return 颜色值
 	 */
 	public Color getT1() {
 		return t1;
 	}
 
 	/**
-	 * ȡɫ
-	 * @return ɫֵ
+	 * 获取顶面深色
+	 * @return 颜色值
 	 */
 	public Color getT2() {
 		return t2;
 	}
 
 	/**
-	 * ȡǳɫ
-	 * @return ɫֵ
+	 * 获取右面浅色
+	 * @return 颜色值
 	 */
 	public Color getR1() {
 		return r1;
 	}
 
 	/**
-	 * ȡɫ
-	 * @return ɫֵ
+	 * 获取右面深色
+	 * @return 颜色值
 	 */
 	public Color getR2() {
 		return r2;
 	}
 	
-	//ϵԽСɫԽdark
+	//系数越小，颜色越dark
 	public Color getDark(float intensity) {
 		return getDarkColor(origin,intensity);
 	}
 
 	/**
-	 * ȡԭʼɫɫʣΪɫҪõܶɫ
-	 * ɫɫȼɫʹɫŵЧֲ
-	 * ø÷ȡʹɫɫֵ
-	 * @param origin ԭʼɫ
-	 * @return ʹɫɫֵ
+	 * 获取原始颜色的炫色彩，因为炫色要用到很多过渡色，
+	 * 比如白色黑色等极端颜色不使用炫色，炫的效果体现不出来
+	 * 用该方法获取相近的能使用炫颜色的颜色值
+	 * @param origin 原始颜色
+	 * @return 最相近的能使用炫颜色的颜色值
 	 */
 	public static Color getDazzelColor(Color origin){
 		CubeColor cc = new CubeColor(origin);
@@ -205,7 +205,7 @@ public class CubeColor {
 		int tmp = 0x00FFFFFF;
 		return tmp & rgba;
 	}
-	//ϵԽСɫԽlight
+	//系数越小，颜色越light
 	public Color getLight(float intensity) {
 		return getLightColor(origin,intensity);
 	}
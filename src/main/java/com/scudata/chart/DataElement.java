@@ -14,43 +14,43 @@ import com.scudata.common.RQException;
 import com.scudata.dm.*;
 
 /**
- * ͼԪ
+ * 数据图元抽象类
  * @author Joancy
  *
  */
 public abstract class DataElement extends LinkElement {
-	// ʹõ1
+	// 使用的坐标轴1
 	public String axis1 = null;
 
-	// ʹõ2
+	// 使用的坐标轴2
 	public String axis2 = null;
 
-	// ʹõʱ
+	// 使用的时间轴
 	public String axisTime = null;
 
 	
-	// 1߼꣬ʽ[v1,v2,...,vn]v, ûӳ߼ʱ data1Ϊx
+	// 轴1的逻辑坐标，格式[v1,v2,...,vn]或v, 没有映射逻辑轴时， data1为物理的x坐标
 	public Sequence data1 = null;
 
-	// 2߼꣬ʽ[w1,w2,..,wn]wy
+	// 轴2的逻辑坐标，格式[w1,w2,..,wn]或w，物理y坐标
 	public Sequence data2 = null;
 
-	// ʱ꣬ʽ[t1,t2,..,tn],ʹʱᣬ dataֻ
+	// 时间轴的坐标，格式[t1,t2,..,tn],如果使用了时间轴， 则data只能是序列
 	public Sequence dataTime = null;
 
 	public boolean visible = true;
 
 	/**
-	 * ͼԪǷɼ
-	 * @return ɼtruefalse
+	 * 图元是否可见
+	 * @return 可见返回true，否则false
 	 */
 	public boolean isVisible() {
 		return visible;
 	}
 
-	//ͼԪϣϵķϵУͼԪĺϲֵ
-//	ͼԪĻƲʹúϲֵøԼķϵֵ
-	// ͬͼԪķϵвһʱúϲֵȱϵеͼԪ
+	//图元可以用于组合，组合轴上的分类和系列，是所有图元的合并值；
+//	但是图元自身的绘制不能使用合并值，得用各自自己的分类和系列值
+	// 当不同图元的分类和系列不一致时，用合并值导致缺少系列的图元画不出
 	public transient Sequence categories = null;
 	public transient Sequence series = null;
 
@@ -73,8 +73,8 @@ public abstract class DataElement extends LinkElement {
 	}
 
 	/**
-	 * ȡͼԪڵϵ
-	 * @return ϵӿ
+	 * 获取图元所在的坐标系
+	 * @return 坐标系接口
 	 */
 	public ICoor getCoor() {
 		ArrayList<ICoor> coorList = e.getCoorList();
@@ -90,7 +90,7 @@ public abstract class DataElement extends LinkElement {
 	}
 
 	/**
-	 * ڶɱ༭Ĳб
+	 * 用于定义生成编辑面板的参数列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -110,24 +110,24 @@ public abstract class DataElement extends LinkElement {
 	}
 
 	/**
-	 * ȡ1
-	 * @return 
+	 * 获取1轴的名称
+	 * @return 轴名字
 	 */
 	public String getAxis1Name() {
 		return axis1;
 	}
 
 	/**
-	 * ȡ2
-	 * @return 
+	 * 获取2轴的名称
+	 * @return 轴名字
 	 */
 	public String getAxis2Name() {
 		return axis2;
 	}
 	
 	/**
-	 * ȡʱ
-	 * @return ʱ
+	 * 获取时间轴名称
+	 * @return 时间轴
 	 */
 	public String getAxisTimeName() {
 		return axisTime;
@@ -155,9 +155,9 @@ public abstract class DataElement extends LinkElement {
 	}
 
 	/**
-	 * ݼԣôʾֵ
+	 * 做数据兼容性，允许用串来表示数值
 	 * 
-	 * @param numericAxis ֵ
+	 * @param numericAxis 数值轴名称
 	 */
 	public void parseNumericAxisData(String numericAxis) {
 		if (isPhysicalCoor()) {
@@ -175,9 +175,9 @@ public abstract class DataElement extends LinkElement {
 	}
 
 	/**
-	 *ȡֶӦ߼ 
-	 * @param axisName  
-	 * @return Ӧ߼
+	 *获取数据轴名字对应的逻辑数据序列 
+	 * @param axisName 数据轴名称 
+	 * @return 对应的逻辑数据序列
 	 */
 	public Sequence getAxisData(String axisName) {
 		if (axisName.equals(axis1)) {
@@ -190,9 +190,9 @@ public abstract class DataElement extends LinkElement {
 	}
 
 	/**
-	 * Ӧ߼
-	 * @param axisName 
-	 * @param data ߼
+	 * 设置相应轴的逻辑数据序列
+	 * @param axisName 数据轴名称
+	 * @param data 逻辑数据序列
 	 */
 	public void setAxisData(String axisName, Sequence data) {
 		if (data == null)
@@ -207,9 +207,9 @@ public abstract class DataElement extends LinkElement {
 	}
 
 	/**
-	 * ȡָһ߼
-	 * @param axisName 
-	 * @return ϵһ߼
+	 * 获取指定轴的另一轴的逻辑数据序列
+	 * @param axisName 轴名称
+	 * @return 坐标系中另一轴的逻辑数据序列
 	 */
 	public Sequence getOppositeAxisData(String axisName) {
 		if (axisName.equals(axis1)) {
@@ -219,7 +219,7 @@ public abstract class DataElement extends LinkElement {
 	}
 
 	/**
-	 * ׼ͼǰݼ׼
+	 * 准备绘图前的数据检查等准备工作
 	 */
 	public void beforeDraw() {
 		if (isPhysicalCoor()) {
@@ -238,7 +238,7 @@ public abstract class DataElement extends LinkElement {
 	}
 
 	/**
-	 * ͼԪǷõ˽ɫͼԪڵǷнɫĲɫԶɫ ᱾ýɫ
+	 * 返回数据图元是否用到了渐变色，数据图元所在的轴根据是否有渐变色，对轴的部分着色自动渐变配色 轴本身不设置渐变颜色
 	 * @return
 	 */
 	public abstract boolean hasGradientColor();
@@ -246,34 +246,34 @@ public abstract class DataElement extends LinkElement {
 	protected transient Engine e;
 
 /**
- * ûͼ
+ * 设置绘图引擎
  */
 	public void setEngine(Engine e) {
 		this.e = e;
 	}
 
 	/**
-	 * ȡͼ
-	 * @return ͼ
+	 * 获取绘图引擎
+	 * @return 绘图引擎
 	 */
 	public Engine getEngine() {
 		return e;
 	}
 
 	/**
-	 * ǰͼԪǷΪϵ
+	 * 当前图元是否为物理坐标系
 	 * 
-	 * @return ϵʱtrue߼ϵʱfalse
+	 * @return 物理坐标系时返回true，逻辑坐标系时返回false
 	 */
 	public boolean isPhysicalCoor() {
 		return axis1 == null && axis2 == null;
 	}
 
 	/**
-	 * ͼԪ׼ҪǼԵĺϷԣ Para滷
+	 * 数据图元的准备工作主要是检查属性的合法性， Para参数的引擎环境设置
 	 */
 	public void prepare() {
-		// ͼԪû֧ParaĶ󣬹ֻһΣParaԵ
+		// 由于数据图元本身没有支持Para的对象，故只需下述调用一次，即可完成所有子类的Para类型属性的引擎设置
 		Utils.setParamsEngine(this);
 		String msg = null;
 
@@ -306,7 +306,7 @@ public abstract class DataElement extends LinkElement {
 		if (msg != null) {
 			throw new RuntimeException(msg);
 		}
-		// ϵʱûҪ
+		// 物理坐标系时，后续检查没必要
 		if (isPhysicalCoor()) {
 			return;
 		}
@@ -324,8 +324,8 @@ public abstract class DataElement extends LinkElement {
 		if (enumData != null) {
 			categories = EnumAxis.extractCatNames(enumData);
 			series = EnumAxis.extractSerNames(enumData);
-			// öᣬǽöΪaxis1
-			// Ļͼ붼axis1ƣĶ̫鷳axis1axis2Ե
+			// 如果有枚举轴，则总是将枚举轴置为axis1，
+			// 后续的绘图代码都基于axis1来绘制，改动太麻烦，在这里，将axis1和axis2对调即可
 			if (enumData == data2) {
 				ICoor ic = getCoor();
 				ta = ic.getAxis2();
@@ -340,7 +340,7 @@ public abstract class DataElement extends LinkElement {
 				axis1 = tmp;
 			}
 		}
-		// ӦǷƥ
+		// 检查轴跟对应数据是否匹配
 		ICoor ic = getCoor();
 		ic.getAxis1().checkDataMatch(data1);
 		ic.getAxis2().checkDataMatch(data2);
@@ -382,7 +382,7 @@ public abstract class DataElement extends LinkElement {
 	}
 
 	/**
-	 * Բֵ㷨
+	 * 采用线性插值算法
 	 * @param frameTime
 	 * @return
 	 */
@@ -411,7 +411,7 @@ public abstract class DataElement extends LinkElement {
 		double x,y;
 		TickAxis ta1=null,ta2=null;
 		if( isPhysicalCoor() ){
-//			ϵʱֱʹ߼
+//			物理坐标系时，直接使用逻辑像素坐标
 			x = ((Number)data1.get(index1)).doubleValue();
 			y = ((Number)data2.get(index1)).doubleValue();
 			p1.setLocation(x, y);
@@ -419,7 +419,7 @@ public abstract class DataElement extends LinkElement {
 			y = ((Number)data2.get(index2)).doubleValue();
 			p2.setLocation(x, y);
 		}else{
-//			ʱּ֧ϵ
+//			暂时不支持极坐标系
 			ta1 = e.getAxisByName(axis1);
 			ta2 = e.getAxisByName(axis2);
 			Object val;
@@ -454,10 +454,10 @@ public abstract class DataElement extends LinkElement {
 		double time1 = ta.animateDoubleValue( dataTime.get(index1) );
 		double time2 = ta.animateDoubleValue( dataTime.get(index2) );
 		double timeLength = time2-time1;
-		double ratio = (frameTime-time1)/timeLength;//ʱڵ1ʱ䳤ȱֵ
+		double ratio = (frameTime-time1)/timeLength;//时间点相对于点1的时间长度比值
 		double xLength = p2.x - p1.x;
 
-		double cx,cy;//ֵ߼
+		double cx,cy;//插值逻辑坐标
 		cx = p1.x+ ratio*xLength;
 		cy = Utils.calcLineY(p1, p2, cx);
 
@@ -468,7 +468,7 @@ public abstract class DataElement extends LinkElement {
 				d1.add(data1.get(i));
 				d2.add(data2.get(i));
 			}
-//			ϲֵ
+//			补上插值点
 			if(ta1!=null && ta1.getLocation()==Consts.AXIS_LOC_V){
 				d1.add(cy);
 				d2.add(cx);
@@ -477,12 +477,12 @@ public abstract class DataElement extends LinkElement {
 				d2.add(cy);
 			}
 		} else {
-			// ߣ򱣳ʱ˵ݵ
+			// 如果是线，则保持时间点两端的数据点
 			if (this instanceof Line) {
 				d1.add(data1.get(index1));
 				d2.add(data2.get(index1));
 			}
-//				ϲֵ
+//				补上插值点
 			if(ta1!=null && ta1.getLocation()==Consts.AXIS_LOC_V){
 				d1.add(cy);
 				d2.add(cx);
@@ -498,7 +498,7 @@ public abstract class DataElement extends LinkElement {
 
 	
 	/**
-	 * ¡ͼԪ
+	 * 克隆数据图元
 	 * @param de
 	 */
 	public void clone(DataElement de) {
@@ -17,14 +17,14 @@ import java.awt.image.*;
 import java.awt.geom.*;
 
 /**
- * ͼ
+ * 绘图引擎
  */
 public class Engine {
 	private ArrayList<IElement> elements;
-	private ArrayList<TickAxis> axisList = new ArrayList<TickAxis>(); // 
-	private ArrayList<ICoor> coorList = new ArrayList<ICoor>(); // ϵ
-	private ArrayList<DataElement> dataList = new ArrayList<DataElement>(); // ͼԪ
-	private ArrayList<TimeAxis> timeList = new ArrayList<TimeAxis>(); // ʱ
+	private ArrayList<TickAxis> axisList = new ArrayList<TickAxis>(); // 轴
+	private ArrayList<ICoor> coorList = new ArrayList<ICoor>(); // 坐标系
+	private ArrayList<DataElement> dataList = new ArrayList<DataElement>(); // 数据图元
+	private ArrayList<TimeAxis> timeList = new ArrayList<TimeAxis>(); // 时间轴
 
 	private transient ArrayList<Shape> allShapes = new ArrayList<Shape>();
 	private transient ArrayList<String> allLinks = new ArrayList<String>();
@@ -32,73 +32,73 @@ public class Engine {
 	private transient ArrayList<String> allTargets = new ArrayList<String>();
 	private transient int w, h;
 	private transient Graphics2D g;
-	private transient ArrayList textAreas = new ArrayList(); // ıѾռõĿռ
+	private transient ArrayList textAreas = new ArrayList(); // 文本区域已经占用的空间
 	private transient StringBuffer html;
 
-	private transient double t_maxDate = 0, t_minDate = Long.MAX_VALUE;// ʱСʱ
+	private transient double t_maxDate = 0, t_minDate = Long.MAX_VALUE;// 所有时间轴的最大最小时间点
 
 	/**
-	 * ͼ
+	 * 构造绘图引擎
 	 */
 	public Engine() {
 	}
 
 	/**
-	 * ͼԪб
+	 * 设置图形元素列表
 	 * 
 	 * @param ies
-	 *            ͼԪ
+	 *            绘图元素
 	 */
 	public void setElements(ArrayList<IElement> ies) {
 		elements = ies;
 	}
 
 	/**
-	 * ÿ̶б
+	 * 设置刻度轴列表
 	 * 
 	 * @param tas
-	 *            ̶б
+	 *            刻度轴列表
 	 */
 	public void setAxisList(ArrayList<TickAxis> tas) {
 		axisList = tas;
 	}
 
 	/**
-	 * ϵб
+	 * 设置坐标系列表
 	 * 
 	 * @param ics
-	 *            ϵб
+	 *            坐标系列表
 	 */
 	public void setCoorList(ArrayList<ICoor> ics) {
 		coorList = ics;
 	}
 
 	/**
-	 * ͼԪб
+	 * 设置数据图元列表
 	 * 
 	 * @param des
-	 *            ͼԪ
+	 *            数据图元
 	 */
 	public void setDataList(ArrayList<DataElement> des) {
 		dataList = des;
 	}
 
 	/**
-	 * ʱ
+	 * 设置时间轴
 	 * 
 	 * @param tas
-	 *            ʱб
+	 *            时间轴列表
 	 */
 	public void setTimeList(ArrayList<TimeAxis> tas) {
 		timeList = tas;
 	}
 
 	/**
-	 * ȡʱ
+	 * 获取时间轴
 	 * 
 	 * @param name
-	 *            
-	 * @return ʱ
+	 *            轴名称
+	 * @return 时间轴对象
 	 */
 	public TimeAxis getTimeAxis(String name) {
 		for (int i = 0; i < timeList.size(); i++) {
@@ -111,7 +111,7 @@ public class Engine {
 	}
 
 	/**
-	 * ȡͼԪӦ״б
+	 * 获取所有图元对应的形状列表
 	 * 
 	 * @return
 	 */
@@ -120,27 +120,27 @@ public class Engine {
 	}
 
 	/**
-	 * ȡ֡frameCountĵframeIndex֡ͼļ
-	 * @param frameCount;֡
-	 * @param frameIndex;ڼ֡0ʼ
+	 * 获取按照总帧数frameCount的第frameIndex帧图像的计算引擎
+	 * @param frameCount;总帧数
+	 * @param frameIndex;第几帧，从0开始
 	 * @return
 	 */
 	public Engine getFrameEngine(int frameCount, int frameIndex){
 		Engine e = clone();
 
 		ArrayList<DataElement> des = new ArrayList<DataElement>();
-		double timeSlice = (t_maxDate-t_minDate)*1f/frameCount;//ʱȰ֡з
-		double frameTime = t_minDate+ timeSlice*frameIndex;//ǰ֡ʱ
+		double timeSlice = (t_maxDate-t_minDate)*1f/frameCount;//时间跨度按照总帧数切分
+		double frameTime = t_minDate+ timeSlice*frameIndex;//计算出当前帧所处时间点
 		
 		for(DataElement de:dataList){
 			String timeAxis = de.getAxisTimeName(); 
 			TimeAxis ta = e.getTimeAxis(timeAxis);
 			if(ta.displayMark){
-//				ʱ
+//				加上时间戳
 				des.add( ta.getMarkElement(frameTime) );
 			}
 			if( StringUtils.isValidString(timeAxis) ){
-				e.elements.remove(de);//elementsѾͼԪʱµͼԪҪϵͼԪ޳
+				e.elements.remove(de);//elements已经包含所有图元，此时产生新的数据图元后，需要将老的数据图元剔除
 				des.add(de.getFrame( frameTime ) );
 			}else{
 				des.add(de);
@@ -151,7 +151,7 @@ public class Engine {
 	}
 
 	/**
-	 * ͼԪгӵĻȡб
+	 * 图元有超链接的话，获取超链接列表
 	 * 
 	 * @return
 	 */
@@ -160,7 +160,7 @@ public class Engine {
 	}
 
 	/**
-	 * ͼεHTMLӴ
+	 * 返回所有图形的HTML超链接代码
 	 * 
 	 * @return
 	 */
@@ -169,13 +169,13 @@ public class Engine {
 	}
 
 	/**
-	 * ȡ״shapeı߽
+	 * 获取任意形状shape的边界多边形
 	 * 
 	 * @param shape
-	 * @return ε
+	 * @return 多边形的坐标点
 	 */
 	private ArrayList<Point> getShapeOutline(Shape shape) {
-		// ȡ״shapeƽ·
+		// 获取形状shape的平滑路径
 		PathIterator iter = new FlatteningPathIterator(
 				shape.getPathIterator(new AffineTransform()), 1);
 		ArrayList<Point> points = new ArrayList<Point>();
@@ -196,7 +196,7 @@ public class Engine {
 		y = rect.y;
 		w = rect.width;
 		h = rect.height;
-		// Ӵ
+		// 超连接处理
 		int minimum = 10;
 		if (w < minimum) {
 			w = minimum;
@@ -222,7 +222,7 @@ public class Engine {
 	}
 
 	private String dealSpecialChar(String str) {
-		// ŸΪϲ㴦˴ٴ
+		// 特殊符号改为上层处理，此处不再处理
 		return str;
 	}
 
@@ -245,7 +245,7 @@ public class Engine {
 		return sb.toString();
 	}
 
-	// svgûʾϢtitleЧ
+	// svg没有提示信息，所以这里的title属性无效。
 	private String getLinkSvg(String link, String shape, String coords,
 			String title, Object target) {
 		StringBuffer sb = new StringBuffer(128);
@@ -267,10 +267,10 @@ public class Engine {
 	}
 
 	/**
-	 * isHtmlHtmlĻsvgĳ
+	 * 根据isHtml生成Html的还是svg的超链接
 	 * 
 	 * @param isHtml
-	 *            淵htmlĳӴΪsvgͼεӴ
+	 *            ，真返回html的超链接串，否则为svg图形的链接串
 	 * @return
 	 */
 	private String generateHyperLinks(boolean isHtml) {
@@ -312,11 +312,11 @@ public class Engine {
 	}
 
 	/**
-	 * Ϊ˷ֹͼԪصƹÿͼԪλöỺ ÷жָľλrectǷѾͼԪཻ
+	 * 为了防止图元重叠，绘制过程中每个画完的图元位置都会缓存 该方法用来判断指定的矩形位置rect是否跟已经画完的图形元素有相交
 	 * 
 	 * @param rect
-	 *            ָľλ
-	 * @return ཻʱtruefalse
+	 *            指定的矩形位置
+	 * @return 如果有相交时返回true，否则false
 	 */
 	public boolean intersectTextArea(Rectangle rect) {
 		int size = textAreas.size();
@@ -330,10 +330,10 @@ public class Engine {
 	}
 
 	/**
-	 * ÿһͼԪҪǰͼԪλϢӵ滺
+	 * 每画完一个图元后，需要将当前图元所处的位置信息添加到引擎缓存
 	 * 
 	 * @param rect
-	 *            ͼԪӦľλ
+	 *            图元对应的矩形描述位置
 	 */
 	public void addTextArea(Rectangle rect) {
 		textAreas.add(rect);
@@ -351,10 +351,10 @@ public class Engine {
 	}
 
 	/**
-	 * öõͼԪйͼ
+	 * 用定义好的图元序列构造绘图引擎
 	 * 
 	 * @param chartElements
-	 *            ͼԪ
+	 *            图形元素序列
 	 */
 	public Engine(Sequence chartElements) {
 		int size = chartElements.length();
@@ -368,38 +368,38 @@ public class Engine {
 	}
 
 	/**
-	 * ȡ̶б
+	 * 获取刻度轴列表
 	 * 
-	 * @return ̶
+	 * @return 刻度轴
 	 */
 	public ArrayList<TickAxis> getAxisList() {
 		return axisList;
 	}
 
 	/**
-	 * ȡͼԪб
+	 * 获取数据图元列表
 	 * 
-	 * @return ͼԪ
+	 * @return 数据图元
 	 */
 	public ArrayList<DataElement> getDataList() {
 		return dataList;
 	}
 
 	/**
-	 * ȡϵбһԲöϵԱͼ
+	 * 获取坐标系列表，一个画布里可以布置多个坐标系，以便绘制组合图形
 	 * 
-	 * @return ϵ
+	 * @return 坐标系
 	 */
 	public ArrayList<ICoor> getCoorList() {
 		return coorList;
 	}
 
 	/**
-	 * ݿ̶ƻȡӦĿ̶
+	 * 根据刻度轴的名称获取相应的刻度轴对象
 	 * 
 	 * @param name
-	 *            ̶
-	 * @return ̶
+	 *            刻度轴名称
+	 * @return 刻度轴对象
 	 */
 	public TickAxis getAxisByName(String name) {
 		for (int i = 0; i < axisList.size(); i++) {
@@ -455,9 +455,9 @@ public class Engine {
 	}
 
 	private void prepare() {
-		// ֻǷͼʱֻһͼͼֵԶöȡͼֵ
+		// 只考虑非组合图时，只有一个图例，允许不设置图例值，可以自动从枚举轴获取图例值。
 		ArrayList<Legend> legends = new ArrayList<Legend>();
-		// ͼԪ
+		// 挑出轴图元
 		for (int i = 0; i < elements.size(); i++) {
 			IElement e = elements.get(i);
 			e.setEngine(this);
@@ -474,7 +474,7 @@ public class Engine {
 				timeList.add((TimeAxis) e);
 			}
 		}
-		// ͼԪõϵ
+		// 挑出数据图元，构造用到的坐标系
 		for (int i = 0; i < elements.size(); i++) {
 			Object e = elements.get(i);
 			if (!(e instanceof DataElement)) {
@@ -550,13 +550,13 @@ public class Engine {
 			}
 		}
 
-		// ͼԪͼǰ׼,ͼԪݣԵͼԪ֮ǰ׼
+		// 数据图元绘图前准备工作,数据图元会调整数据，所以得在轴图元之前准备
 		for (int i = 0; i < dataList.size(); i++) {
 			DataElement de = dataList.get(i);
 			de.prepare();
 		}
 
-		// öͼԪ׼Ϊֵ׼漰ۻʱᰴöֵۻֵ
+		// 枚举轴图元先准备，因为后续的数值轴准备过程中涉及到累积时，会按照枚举值来累积计算最大值
 		for (int i = 0; i < axisList.size(); i++) {
 			TickAxis axis = axisList.get(i);
 			if (axis instanceof EnumAxis) {
@@ -577,7 +577,7 @@ public class Engine {
 			}
 		}
 
-		// ͼԪͼǰ׼
+		// 轴图元绘图前准备工作
 		for (int i = 0; i < axisList.size(); i++) {
 			TickAxis axis = axisList.get(i);
 			if (axis instanceof EnumAxis) {
@@ -587,7 +587,7 @@ public class Engine {
 			axis.prepare(al);
 		}
 
-		// ʱ׼
+		// 时间轴准备工作
 		for (int i = 0; i < timeList.size(); i++) {
 			TimeAxis ta = timeList.get(i);
 			ArrayList<DataElement> al = getDataElementsOnTime(ta.getName());
@@ -598,18 +598,18 @@ public class Engine {
 	}
 
 	/**
-	 * ȡлͼԪб
+	 * 获取所有绘图元素列表
 	 * 
-	 * @return ȫͼԪ
+	 * @return 全部绘图元素
 	 */
 	public ArrayList<IElement> getElements() {
 		return elements;
 	}
 
 	/**
-	 * Ƿ񶯻
+	 * 是否动画
 	 * 
-	 * @return Ƕtrue
+	 * @return 如果是动画返回true
 	 */
 	public boolean isAnimate() {
 		return !timeList.isEmpty();
@@ -642,7 +642,7 @@ public class Engine {
 		boolean useCSS = true; // we want to use CSS style attributes
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
 		Writer out = new OutputStreamWriter(baos, "UTF-8");
-		// StringWriter out = new StringWriter();//ֱдȥתַ
+		// StringWriter out = new StringWriter();//直接写串出去，不转换字符集
 
 		AppUtil.invokeMethod(g2d, "stream", new Object[] { out,
 				new Boolean(useCSS) }, new Class[] { Writer.class,
@@ -657,7 +657,7 @@ public class Engine {
 
 		byte[] bs = baos.toByteArray();
 		String links = generateHyperLinks(false);
-		if (links != null) {// ƴϳ
+		if (links != null) {// 拼接上超链接
 			String buf = new String(bs, "UTF-8");
 			int n = buf.lastIndexOf("</svg");
 			StringBuffer sb = new StringBuffer();
@@ -671,13 +671,13 @@ public class Engine {
 	}
 
 	/**
-	 * ĻͼתΪӦʽͼ
+	 * 将画完的缓冲图像转换为相应格式的图形数据
 	 * 
 	 * @param bi
-	 *            תĻͼ
+	 *            待转换的缓冲图像
 	 * @param imageFmt
-	 *            ĿͼƬʽConsts.IMAGE_XXX
-	 * @return תΪͼƬʽֽ
+	 *            目标图片格式，Consts.IMAGE_XXX
+	 * @return 转换为图片格式后的字节数组
 	 */
 	public static byte[] getImageBytes(BufferedImage bi, byte imageFmt)
 			throws Exception {
@@ -697,15 +697,15 @@ public class Engine {
 	}
 
 	/**
-	 * ָԼͼθʽƻͼ
+	 * 根据指定宽高以及输出图形格式绘制缓冲图像
 	 * 
 	 * @param w
-	 *            ͼοȣ
+	 *            图形宽度，像素
 	 * @param h
-	 *            ͼθ߶ȣ
+	 *            图形高度，像素
 	 * @param imageFmt
-	 *            ͼƬʽ
-	 * @return Ļͼ
+	 *            待产生的图片格式
+	 * @return 画完后的缓冲图像
 	 */
 	public BufferedImage calcBufferedImage(int w, int h, byte imageFmt) {
 		BufferedImage bi = null;
@@ -723,7 +723,7 @@ public class Engine {
 		Utils.setIsGif( imageFmt == Consts.IMAGE_GIF );
 		if (imageFmt == Consts.IMAGE_PNG) {
 		} else if (imageFmt == Consts.IMAGE_JPG) {
-			// ȱʡΪɫȱʡɫѿ
+			// 缺省为白色背景，否则缺省黑色难看
 			lg.setColor(Color.white);
 			lg.fillRect(0, 0, w, h);
 		} else { // Flash
@@ -734,12 +734,12 @@ public class Engine {
 	}
 
 	/**
-	 * ͬcalcBufferedImageοǰ
+	 * 作用同calcBufferedImage，参数参考前述方法
 	 * 
 	 * @param w
 	 * @param h
 	 * @param imageFmt
-	 * @return ɺͼƬֽ
+	 * @return 绘制完成后的图片字节数组
 	 */
 	public byte[] calcImageBytes(int w, int h, byte imageFmt) {
 		Graphics2D lg = null;
@@ -767,9 +767,9 @@ public class Engine {
 	}
 
 	/**
-	 * ȡͼԭʼߣͼ䷽ʽҪݸϢӦ
+	 * 获取背景图的原始宽高，背景图填充方式需要根据该信息相应填充或者拉伸
 	 * 
-	 * @return ͸߹ɵ
+	 * @return 宽和高构成的像素数组
 	 */
 	public int[] getBackOrginalWH() {
 		int size = elements.size();
@@ -784,20 +784,20 @@ public class Engine {
 	}
 
 	/**
-	 * ִлͼhtmlΪnullʱɳ
+	 * 执行画图动作，参数html为null时不生成超链接
 	 * 
 	 * @param g
-	 *            ͼ豸
+	 *            图形设备
 	 * @param x
-	 *            x
+	 *            x坐标
 	 * @param y
-	 *            y
+	 *            y坐标
 	 * @param w
-	 *            ͼο
+	 *            图形宽度
 	 * @param h
-	 *            ͼθ߶
+	 *            图形高度
 	 * @param html
-	 *            ڻͼвĳϢ
+	 *            用于缓存图形中产生的超链接信息
 	 */
 	public void draw(Graphics2D g, int x, int y, int w, int h, StringBuffer html) {
 		long b = System.currentTimeMillis();
@@ -806,13 +806,13 @@ public class Engine {
 		this.w = w;
 		this.h = h;
 		this.html = html;
-		// ֻxyΪ
+		// 只考虑x，y为正数的情形
 		if (x + y != 0) {
 			g.translate(x, y);
 		}
 		Utils.setGraphAntiAliasingOn(g);
 		textAreas.clear();
-		ArrayList<IElement> bufElements = new ArrayList<IElement>();// ͼԪͼԪƣȻƹģʹӻƳ
+		ArrayList<IElement> bufElements = new ArrayList<IElement>();// 缓冲图元，图元分批绘制，先绘制过的，就从缓冲移除
 		bufElements.addAll(elements);
 
 		int size = bufElements.size();
@@ -821,20 +821,20 @@ public class Engine {
 			e.beforeDraw();
 		}
 
-		// һȻͼһֻһ˴ж
+		// 第一步，先画背景图，背景一般只能有一个，此处不判断
 		for (int i = 0; i < size; i++) {
 			IElement e = elements.get(i);
 			if (e instanceof com.scudata.chart.element.BackGround) {
 				e.drawBack();
-				bufElements.remove(e);// ѾƹͼԪӻȥ
+				bufElements.remove(e);// 已经绘制过的图元从缓冲去掉
 			}
 		}
 
-		// ڶͼԪ
+		// 第二步，绘制轴图元
 		drawElements(getAxisList());
 		bufElements.removeAll(getAxisList());
 
-		// ͼԪ
+		// 第三步，绘制数据图元
 		drawElements(getDataList());
 		ArrayList<DataElement> des = getDataList();
 		for (int i = 0; i < des.size(); i++) {
@@ -847,13 +847,13 @@ public class Engine {
 			allLinks.addAll(links);
 			allTitles.addAll(de.getTitles());
 			// for (int n = 0; n < links.size(); n++) {
-			// allTargets.add(de.getTarget());// targetlink
+			// allTargets.add(de.getTarget());// target跟link对齐
 			// }
 			allTargets.addAll(de.getTargets());
 		}
 		bufElements.removeAll(getDataList());
 
-		// ĲʣͼԪ
+		// 第四步，绘制剩余的图元
 		drawElements(bufElements);
 
 		if (x + y != 0) {
@@ -881,7 +881,7 @@ public class Engine {
 	}
 
 	/**
-	 * ȡǰͼ豸
+	 * 获取当前绘图设备
 	 * 
 	 * @return
 	 */
@@ -890,53 +890,53 @@ public class Engine {
 	}
 
 	/**
-	 * ȡƵͼοȣλ
+	 * 获取待绘制的图形宽度，单位像素
 	 * 
-	 * @return ͼο
+	 * @return 图形宽度
 	 */
 	public int getW() {
 		return w;
 	}
 
 	/**
-	 * ȡƵͼθ߶ȣλ
+	 * 获取待绘制的图形高度，单位像素
 	 * 
-	 * @return ͼθ߶
+	 * @return 图形高度
 	 */
 	public int getH() {
 		return h;
 	}
 
 	/**
-	 * valֵλͼеλãval1ʱֱӱʾλã 0<val<=1ʱʾڵǰͼοȵıλã
-	 * val<1ʱʾ½ʱķλ
+	 * 计算val值位于图形中的像素位置，val大于1时，直接表示像素位置； 0<val<=1时，表示相对于当前图形宽度的比例位置；
+	 * val<1时，表示相对于右下角时的反向位置
 	 * 
 	 * @param val
-	 *            תֵ
-	 * @return תĺͼξλֵʵȣۻ
+	 *            待转换的数值
+	 * @return 转换后的横向图形绝对位置像素值，采用实数精度，避免累积误差
 	 */
 	public double getXPixel(double val) {
 		return getPixel(val, getW());
 	}
 
 	/**
-	 * ͬgetXPixelοӦ
+	 * 含义同getXPixel，参考相应内容
 	 * 
 	 * @param val
-	 *            תֵ
-	 * @return 
+	 *            带转换的数值
+	 * @return 纵向像素坐标
 	 */
 	public double getYPixel(double val) {
 		return getPixel(val, getH());
 	}
 
 	private double getPixel(double val, double length) {
-		if (val > 1) { // val1ʱʾ
+		if (val > 1) { // val大于1时表示绝对像素坐标
 			return val;
 		} else if (val >= 0) {
-			// ʾͼlengthı
+			// 否则表示相对图形length的比例坐标
 			return length * val;
-		} else {// ʱһµ
+		} else {// 负数时相对右或者下的像素数
 			if (val > -1) {
 				val = length * val;
 			}
@@ -949,7 +949,7 @@ public class Engine {
 	}
 
 	/**
-	 * ¡ǰͼ
+	 * 克隆当前绘图引擎
 	 */
 	public Engine clone() {
 		Engine e = new Engine();
@@ -8,48 +8,48 @@ import com.scudata.chart.edit.ParamInfoList;
 import com.scudata.common.StringUtils;
 
 /**
- * ͼԪĳ
+ * 超链接图元的抽象类
  * @author Joancy
  *
  */
 public abstract class LinkElement extends ObjectElement{
-	//Ӳʹú꣬ΪdfxÿdataͼԪĶӦУʱѭʹã
+	//超链接不再使用宏，改为由dfx计算出每个data的图元的对应链接序列，不够时，循环使用；
 	public Para htmlLink = new Para(null);
-	public Para tipTitle = new Para(null);// tipTitleûָʱĬʹdata
+	public Para tipTitle = new Para(null);// 当tipTitle没有指定时，默认使用data的数据
 	public Para linkTarget = new Para("_blank");
 
 	private transient ArrayList<Shape> shapes = new ArrayList<Shape>();
 	private transient ArrayList<String> links = new ArrayList<String>();
-	private transient ArrayList<String> titles = new ArrayList<String>();// ָʱʾϢ
+	private transient ArrayList<String> titles = new ArrayList<String>();// 鼠标指向区域时，弹出的提示消息
 	private transient ArrayList<String> targets = new ArrayList<String>();
 	/**
-	 * ȡͼԪӱ߽״
+	 * 获取图元的链接边界形状
 	 * 
-	 * @return Shape ߽״б
+	 * @return Shape 边界形状列表
 	 */
 	public ArrayList<Shape> getShapes() {
 		return shapes;
 	}
 
 	/**
-	 * ȡб
-	 * @return 
+	 * 获取超链接列表
+	 * @return 超链接
 	 */
 	public ArrayList<String> getLinks() {
 		return links;
 	}
 
 	/**
-	 * ȡʾϢб
-	 * @return ʾϢ
+	 * 获取提示信息列表
+	 * @return 提示信息
 	 */
 	public ArrayList<String> getTitles() {
 		return titles;
 	}
 
 	/**
-	 * ȡĿ򿪷ʽб
-	 * @return Ŀ򿪷ʽ
+	 * 获取超链接目标打开方式列表
+	 * @return 目标打开方式
 	 */
 	public ArrayList<String> getTargets() {
 		return targets;
@@ -9,8 +9,8 @@ import com.scudata.dm.Sequence;
 import com.scudata.expression.ChartParam;
 
 /**
- * ͼԪͼԪͼαǸ࣬ͼԪԱΪpublicԶлͼԪֵ
- * ͼԪԶü̳˸ֵ
+ * 抽象图元，子图元，图形必须是该类的子类，子图元的属性必须为public，该类会自动序列化子图元属性值
+ * 该图元会自动设置继承了该类的属性值；
  */
 public abstract class ObjectElement implements IElement{
 	MessageManager mm = ChartMessage.get();
@@ -29,7 +29,7 @@ public abstract class ObjectElement implements IElement{
 			try {
 				f = elementClass.getField(cp.getName());
 				if (p.getValue() == null) {
-					// 2014.8.20 ֵΪnullлкܶ಻Ԥϵnull쳣
+					// 2014.8.20 参数值为null的情况报错，否则后续参数引用中会有很多不可预料的null异常
 					String cName = elementClass.getName();
 					int lastIndex = cName.lastIndexOf('.')+1;
 					cName = cName.substring(lastIndex);
@@ -51,7 +51,7 @@ public abstract class ObjectElement implements IElement{
 					f.set(elementObject, new Float(p.floatValue()));
 				} else if (className.endsWith("double")) {
 					f.set(elementObject, new java.lang.Double(p.doubleValue()));
-				} else if (className.endsWith(".color")) {// ϵͲchartcolorcolor
+				} else if (className.endsWith(".color")) {// 加上点就不会把chartcolor当成color了
 					f.set(elementObject, p.colorValue(0));
 				} else if (className.endsWith("string")) {
 					f.set(elementObject, p.stringValue());
@@ -64,7 +64,7 @@ public abstract class ObjectElement implements IElement{
 				} else if (className.endsWith("object")) {
 					f.set(elementObject, cp.getValue());
 				} else {
-					Para defP = (Para)f.get(elementObject);//ȱʡԵͼãֵ±
+					Para defP = (Para)f.get(elementObject);//将缺省属性的图例设置，赋值到新变量
 					if(defP!=null){
 						p.setLegendProperty(defP.getLegendProperty());
 					}
@@ -12,13 +12,13 @@ import com.scudata.common.Logger;
 import com.scudata.dm.*;
 import com.scudata.util.*;
 /**
- * Ҫݵ˳ԣԿѭӦʱʹø
+ * 需要定义多个数据的顺序属性，且属性可以循环对应时，使用该类
  *
  */
 public class Para {
-//	ֺlegendPropertyûҪлڱʼֵ
+//	名字和legendProperty没必要序列化，都在变量初始值里面
 	private transient String name;
-	private transient byte legendProperty=0;//ǰԶӦͼĸԣͼʵ3
+	private transient byte legendProperty=0;//当前属性对应到图例里面的哪个属性，绘制图例实现了3种属性
 	
 	private Object value = null;
 	private String axis = null;
@@ -27,13 +27,13 @@ public class Para {
 	private transient static ArrayList<Color> defPalette = null;
 
 	/**
-	 * ȱʡ캯
+	 * 缺省构造函数
 	 */
 	public Para() {
 	}
 
 	/**
-	 * ʹóʼֵ
+	 * 使用初始值构造参数
 	 * @param value
 	 */
 	public Para(Object value) {
@@ -41,17 +41,17 @@ public class Para {
 	}
 	
 	/**
-	 * ʹöӦͼ͹
-	 * @param legendProperty Ӧͼֵ
+	 * 使用对应图例属性类型构造参数
+	 * @param legendProperty 对应图例属性值
 	 */
 	public Para(byte legendProperty) {
 		this.legendProperty = legendProperty;
 	}
 
 	/**
-	 * ʹóʼֵԼӦͼ͹
-	 * @param value ʼֵ
-	 * @param legendProperty Ӧͼ
+	 * 使用初始值以及对应图例属性类型构造参数
+	 * @param value 初始属性值
+	 * @param legendProperty 对应图例属性
 	 */
 	public Para(Object value,byte legendProperty) {
 		this.value = value;
@@ -64,7 +64,7 @@ public class Para {
 		if (tmp instanceof Sequence) {
 			Sequence seq = (Sequence) tmp;
 			tmp = Utils.sequenceToChartColor(seq);
-			if (tmp == null) { // ChartColor,ȻֵΪ
+			if (tmp == null) { // 如果不是ChartColor,仍然赋值为该序列
 				tmp = value;
 			}
 		}
@@ -74,57 +74,57 @@ public class Para {
 	}
 
 	/**
-	 * öӦͼֵ
-	 * @param p ͼֵ
+	 * 设置对应到图例的属性值
+	 * @param p 图例属性值
 	 */
 	public void setLegendProperty(byte p){
 		this.legendProperty = p;
 	}
 	
 	/**
-	 * ȡͼֵ
-	 * @return ֵ
+	 * 获取图例属性值
+	 * @return 属性值
 	 */
 	public byte getLegendProperty(){
 		return legendProperty;
 	}
 	
 	/**
-	 * ȡֵ
-	 * @return ֵ
+	 * 获取属性值
+	 * @return 属性值
 	 */
 	public Object getValue() {
 		return value;
 	}
 
 	/**
-	 * ֵ
-	 * @param value ֵ
+	 * 设置属性值
+	 * @param value 属性值
 	 */
 	public void setValue(Object value) {
 		this.value = value;
 	}
 
 	/**
-	 * û
-	 * @param e 
+	 * 设置环境引擎
+	 * @param e 引擎对象
 	 */
 	public void setEngine(Engine e) {
 		this.e = e;
 	}
 
 	/**
-	 * ֵΪУȡеֵ
-	 * @return ֵ
+	 * 如果值为序列，获取序列的值个数
+	 * @return 参数值个数
 	 */
 	public int getLength(){
 		return sequenceValue().length();
 	}
 	
 	/**
-	 * ֵΪɫChartColorֵаChartColor
-	 * ȡɫǷ˽ɫ
-	 * @return зtrue򷵻false
+	 * 如果属性值为填充颜色类ChartColor，或者序列属性值中包含有ChartColor
+	 * 获取填充颜色类是否定义了渐变颜色
+	 * @return 如果有返回true，否则返回false
 	 */
 	public boolean hasGradientColor() {
 		if (value == null || !(value instanceof Sequence))
@@ -140,10 +140,10 @@ public class Para {
 	}
 
 	/**
-	 * ߼ֵΪʱӦ߼ֵѭȡֵ
-	 * 綨  3ɫ ߼  4߼ֵʱ  ѭӦΪ1ɫ
-	 * @param pos ߼ݵλ
-	 * @return ѭӦӦֵ
+	 * 如果逻辑数据值为序列时，对应逻辑值循环获取该属性值
+	 * 比如定义了 红绿蓝 3种颜色， 而逻辑数据有 张王李赵 4个逻辑值时，则 赵 会循环对应为第1个红色
+	 * @param pos 逻辑数据的位置序号
+	 * @return 根据序号循环对应相应参数值
 	 */
 	public Object objectValue(int pos) {
 		Object val;
@@ -154,13 +154,13 @@ public class Para {
 				pos = seq.length();
 			}
 			val = seq.get(pos);
-		} else if (value instanceof Color) { // Ϊ˲ҪתиֱֵColor󣬵ӱ༭ڻȡĶ
+		} else if (value instanceof Color) { // 为了不必要的转换，程序中赋值直接用Color对象，但从编辑窗口获取的都是整数
 			val = new Integer(((Color) value).getRGB());
 		} else {
 			val = value;
 		}
-		// ΪnullʱֱȡòֵûAxisĲʱengine޹
-		// ͨͬʱģҲȡûĲֵʱeҲ϶null
+		// 轴为null时，即直接取设置参数的值，又由于在设置没有Axis的参数时，跟engine无关
+		// 所以通常下述两个条件是同时满足的，也即取没有轴的参数值时，e也肯定是null
 		if (axis == null || e == null) {
 			return val;
 		}
@@ -175,17 +175,17 @@ public class Para {
 	}
 
 	/**
-	 * ϲ֪ӦͣΪΣȡһ
-	 * @return һֵ
+	 * 由上层代码事先知道对应的数据类型，如果为整形，取第一个整数
+	 * @return 第一个整数值
 	 */
 	public int intValue() {
 		return intValue(0);
 	}
 
 	/**
-	 * λûȡӦֵλñȲҪʱѭȡֵ
-	 * @param pos Ӧλ
-	 * @return Ӧֵ
+	 * 按照位置获取对应参数的整数值，位置比参数长度要大时，将循环取值
+	 * @param pos 参数对应位置
+	 * @return 参数相应整数值
 	 */
 	public int intValue(int pos) {
 		Object val = objectValue(pos);
@@ -199,15 +199,15 @@ public class Para {
 	}
 
 	/**
-	 * ÷ͬintValueӦο
-	 * @return ֵ
+	 * 用法同intValue函数，相应参数参考它
+	 * @return 浮点数值
 	 */
 	public float floatValue() {
 		return floatValue(0);
 	}
 
 	/**
-	 * ÷ͬintValueӦο
+	 * 用法同intValue函数，相应参数参考它
 	 * @param pos 
 	 * @return
 	 */
@@ -224,17 +224,17 @@ public class Para {
 
 	
 	/**
-	 * ÷ͬintValueӦο
-	 * @return ʵֵ
+	 * 用法同intValue函数，相应参数参考它
+	 * @return 实数值
 	 */
 	public double doubleValue() {
 		return doubleValue(0);
 	}
 
 	/**
-	 * ÷ͬintValueӦο
-	 * @param pos λ
-	 * @return ʵֵ
+	 * 用法同intValue函数，相应参数参考它
+	 * @param pos 参数位置
+	 * @return 实数值
 	 */
 	public double doubleValue(int pos) {
 		Object val = objectValue(pos);
@@ -248,17 +248,17 @@ public class Para {
 	}
 
 	/**
-	 * ÷ͬintValueӦο
-	 * @return ֵ
+	 * 用法同intValue函数，相应参数参考它
+	 * @return 日期值
 	 */
 	public Date dateValue() {
 		return dateValue(0);
 	}
 
 	/**
-	 * ÷ͬintValueӦο
-	 * @param pos  λ
-	 * @return ֵ
+	 * 用法同intValue函数，相应参数参考它
+	 * @param pos  参数位置
+	 * @return 日期值
 	 */
 	public Date dateValue(int pos) {
 		Object val = objectValue(pos);
@@ -276,17 +276,17 @@ public class Para {
 	}
 
 	/**
-	 * ÷ͬintValueӦο
-	 * @return ֵ
+	 * 用法同intValue函数，相应参数参考它
+	 * @return 布尔值
 	 */
 	public boolean booleanValue() {
 		return booleanValue(0);
 	}
 
 	/**
-	 * ÷ͬintValueӦο
-	 * @param pos  λ
-	 * @return ֵ
+	 * 用法同intValue函数，相应参数参考它
+	 * @param pos  参数位置
+	 * @return 布尔值
 	 */
 	public boolean booleanValue(int pos) {
 		Object val = objectValue(pos);
@@ -300,17 +300,17 @@ public class Para {
 	}
 
 	/**
-	 * ÷ͬintValueӦο
-	 * @return ɫֵ
+	 * 用法同intValue函数，相应参数参考它
+	 * @return 填充颜色值
 	 */
 	public ChartColor chartColorValue() {
 		return chartColorValue(1);
 	}
 
 	/**
-	 * ÷ͬintValueӦο
-	 * @param pos  λ
-	 * @return ɫֵ
+	 * 用法同intValue函数，相应参数参考它
+	 * @param pos  参数位置
+	 * @return 填充颜色值
 	 */
 	public ChartColor chartColorValue(int pos) {
 		Object val = objectValue(pos);
@@ -334,17 +334,17 @@ public class Para {
 
 	
 	/**
-	 * ÷ͬintValueӦο
-	 * @return ֵַ
+	 * 用法同intValue函数，相应参数参考它
+	 * @return 字符串值
 	 */
 	public String stringValue() {
 		return stringValue(0);
 	}
 
 	/**
-	 * ÷ͬintValueӦο
-	 * @param pos  λ
-	 * @return ֵַ
+	 * 用法同intValue函数，相应参数参考它
+	 * @param pos  参数位置
+	 * @return 字符串值
 	 */
 	public String stringValue(int pos) {
 		Object val = objectValue(pos);
@@ -355,9 +355,9 @@ public class Para {
 	}
 
 	/**
-	 * ʹȱʡɫɫȡɫѭֵ
-	 * @param pos ߼ݶӦ
-	 * @return ɫֵ
+	 * 使用缺省的颜色调色板获取颜色循环值
+	 * @param pos 逻辑数据对应坐标
+	 * @return 颜色值
 	 */
 	public static Color defColorValue(int pos) {
 		pos--; 
@@ -373,9 +373,9 @@ public class Para {
 	}
 
 	/**
-	 * ɫʱصɫɫ
-	 * @param pos λ
-	 * @return ɫ
+	 * 方法用在颜色不设置时，返回调色板中颜色
+	 * @param pos 位置
+	 * @return 颜色
 	 */
 	public Color colorValueNullAsDef(int pos) {
 		Color c = colorValue(pos);
@@ -384,12 +384,12 @@ public class Para {
 	}
 	
 	/**
-	 * вֲҪΪûжɫʱnullʱԵɫ ԣ
-	 * ûɫʹϵͳɫ壬Ƿʹõɫɫ
-	 * ϲ˸úȻ᷵nullֵ
-	 * ܷnullɫʹcolorValueNullAsDef
-	 * @param pos int λ
-	 * @return Color ɫ
+	 * 有部分参数需要解释为没有定义颜色时，即返回null时，用其他属性的颜色 所以，
+	 * 并不是所有没定义的颜色都使用系统调色板，故是否使用调色板的颜色
+	 * 由上层程序决定，因此该函数仍然会返回null值
+	 * 不能返回null的颜色使用colorValueNullAsDef方法。
+	 * @param pos int 位置
+	 * @return Color 颜色
 	 */
 	public Color colorValue(int pos) {
 		Object val = objectValue(pos);
@@ -406,7 +406,7 @@ public class Para {
 			return cc.getColor1();
 		}
 		int ci = Integer.parseInt(val.toString());
-		if( ci ==16777215) return null;//͸ɫʱnull
+		if( ci ==16777215) return null;//透明色时，返回null对象；
 		return new Color(ci);
 	}
 
@@ -486,7 +486,7 @@ public class Para {
 			Properties config = new Properties();
 			InputStream is = null;
 			String name = "/chartcolor.properties";
-//			ͼԪõͳͼͳͼļΪcolor.properties,뼯ʽͬ
+//			集算器图元会用到报表统计图，而统计图的配置文件为color.properties,且与集算器格式不同
 			String relativePath = com.scudata.ide.common.GC.PATH_CONFIG
 					+ name;
 			File f = new File(
@@ -502,7 +502,7 @@ public class Para {
 						.getResourceAsStream("/config"+name);
 			}
 			if (is == null)
-				return null;// ûɫļ
+				return null;// 没有配色文件
 			config.load(is);
 			String obj = (String)config.getProperty("default");
 			if(obj==null){
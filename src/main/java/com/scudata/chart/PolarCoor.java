@@ -5,7 +5,7 @@ import java.awt.geom.*;
 import com.scudata.chart.element.*;
 
 /**
- * ϵ
+ * 极坐标系
  * @author Joancy
  *
  */
@@ -13,22 +13,22 @@ public class PolarCoor implements ICoor {
 	TickAxis a1, a2;
 
 	/**
-	 * ÿ̶1
+	 * 设置刻度轴1
 	 */
 	public void setAxis1(TickAxis axis) {
 		this.a1 = axis;
 	}
 
 	/**
-	 * ȡ̶1
+	 * 获取刻度轴1
 	 */
 	public TickAxis getAxis1() {
 		return a1;
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取极轴
+	 * @return 极轴对象
 	 */
 	public TickAxis getPolarAxis() {
 		if (a1.getLocation() == Consts.AXIS_LOC_POLAR) {
@@ -38,22 +38,22 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * ÿ̶2
+	 * 设置刻度轴2
 	 */
 	public void setAxis2(TickAxis axis) {
 		this.a2 = axis;
 	}
 
 	/**
-	 * ȡ̶2
+	 * 获取刻度轴2
 	 */
 	public TickAxis getAxis2() {
 		return a2;
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取角轴
+	 * @return 角轴对象
 	 */
 	public TickAxis getAngleAxis() {
 		if (a1.getLocation() == Consts.AXIS_LOC_ANGLE) {
@@ -63,10 +63,10 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * ؼϵµֵ㣻 P.x = ᳤ȣ P.y=Ƕ
-	 * @param val1 ߼1
-	 * @param val2 ߼2
-	 * @return Point Ӧ
+	 * 返回极坐标系下的数值点；其中 P.x = 极轴长度， P.y=角轴角度
+	 * @param val1 逻辑坐标1
+	 * @param val2 逻辑坐标2
+	 * @return Point 对应极坐标
 	 */
 	public Point2D getPolarPoint(Object val1, Object val2) {
 		double i1 = a1.getValueLen(val1);
@@ -83,9 +83,9 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * תΪͼĻλ
-	 * @param polarPoint 
-	 * @return Ļؾ
+	 * 将极坐标点转换为图形屏幕像素位置
+	 * @param polarPoint 极坐标点
+	 * @return 屏幕像素绝对坐标
 	 */
 	public Point2D getScreenPoint(Point2D polarPoint) {
 		TickAxis polarAxis = (TickAxis) getPolarAxis();
@@ -100,10 +100,10 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * ֱӸ߼ֵĻؾ
-	 * @param ߼1
-	 * @param ߼2
-	 * @return Ļؾ
+	 * 直接根据逻辑坐标值，计算出屏幕像素绝对坐标
+	 * @param 逻辑坐标1
+	 * @param 逻辑坐标2
+	 * @return 屏幕像素绝对坐标
 	 */
 	public Point2D getScreenPoint(Object val1, Object val2) {
 		Point2D pDot = getPolarPoint(val1, val2);
@@ -111,9 +111,9 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * ȡԭ㼫᳤ΪpolarLenԲ߽
-	 * @param polarLen ᳤
-	 * @return Double ߽
+	 * 获取相对原点极轴长为polarLen的椭圆边界
+	 * @param polarLen 极轴长度
+	 * @return Double 边界对象
 	 */
 	public Rectangle2D getEllipseBounds(double polarLen) {
 		TickAxis polarAxis = (TickAxis) getPolarAxis();
@@ -126,9 +126,9 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * жϵǷ
-	 * @param һϵ
-	 * @return ȷtrue 򷵻false
+	 * 判断两个坐标系是否相等
+	 * @param 另一个坐标系
+	 * @return 相等返回true， 否则返回false
 	 */
 	public boolean equals(Object another) {
 		if (another instanceof PolarCoor) {
@@ -140,7 +140,7 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * ÷ͬCartesianCoor
+	 * 用法同CartesianCoor
 	 */
 	public NumericAxis getNumericAxis() {
 		TickAxis axis = CartesianCoor.getAxis(this, NumericAxis.class);
@@ -150,7 +150,7 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * ÷ͬCartesianCoor
+	 * 用法同CartesianCoor
 	 */
 	public EnumAxis getEnumAxis() {
 		TickAxis axis = CartesianCoor.getAxis(this, EnumAxis.class);
@@ -160,14 +160,14 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * ϵϢ
+	 * 坐标系的描述信息
 	 */
 	public String toString() {
 		return "PolarCoor Axis1:" + a1.getName() + " Axis2:" + a2.getName();
 	}
 
 	/**
-	 * ǷΪϵ
+	 * 是否为极坐标系
 	 * @return true
 	 */
 	public boolean isPolarCoor() {
@@ -175,7 +175,7 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * ǷΪֱϵ
+	 * 是否为直角坐标系
 	 * @return false
 	 */
 	public boolean isCartesianCoor() {
@@ -183,7 +183,7 @@ public class PolarCoor implements ICoor {
 	}
 
 	/**
-	 * 1öᣬǻö
+	 * 垂向的1轴是枚举轴，就算是基于枚举轴
 	 */
 	public boolean isEnumBased() {
 			TickAxis ta = getAxis1();
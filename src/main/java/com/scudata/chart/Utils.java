@@ -27,13 +27,13 @@ import com.scudata.expression.*;
 import com.scudata.util.*;
 
 /**
- * ͼһЩ÷
- * Ƿ1.2.3ģΪͬһͼԪҪƵķֽ⶯
- * ÿһҪ϶ķɫ
- * 1ΪͼӰdrawBackеã
- * 2Ϊͼɫdrawеã
- * 3Ϊͼı߿drawForeеá 
- * ֵķΪ򵥺ҪֲͼҷϲѾ
+ * 画图的一些基础公用方法
+ * 凡是方法后面带上1.2.3步骤的，均为同一图元需要分三步绘制的分解动作
+ * 且每一个动作都需要带上独立的风格，颜色
+ * 步骤1为图像的阴影，在drawBack中调用；
+ * 步骤2为图像的填充色，在draw中调用；
+ * 步骤3为图像的边框，在drawFore中调用。 
+ * 不带数字的方法均为简单函数，不需要分步的图像，且风格在上层程序已经设置
  * 
  */
 
@@ -50,7 +50,7 @@ public class Utils {
 		double y1 = b.getY() + shift;// SHADE_SPAN;
 		double x2 = e.getX() + shift;// SHADE_SPAN;
 		double y2 = e.getY() + shift;// SHADE_SPAN;
-		// ͼοд±  ֱӰͼ ҳ
+		// 计算草图参考手写记事本 第 直线阴影计算图形 页
 		// Point2D P1 = new Point2D.Double(x1, y1);
 		// Point2D P2 = new Point2D.Double(x2, y2);
 		double P2e = Math.abs(y2 - y1);
@@ -72,13 +72,13 @@ public class Utils {
 	}
 
 	/**
-	 * ֱߵӰ
-	 * @param g ͼ豸
-	 * @param b ߶
-	 * @param e ߶յ
-	 * @param style ߵķ
-	 * @param weight ߵĴֶ
-	 * @return ߶εĳ״
+	 * 画直线的阴影
+	 * @param g 图形设备
+	 * @param b 线段起点
+	 * @param e 线段终点
+	 * @param style 线的风格
+	 * @param weight 线的粗度
+	 * @return 线段的超链接形状
 	 */
 	public static Shape drawLine1(Graphics2D g, Point2D b, Point2D e,
 			int style, float weight) {
@@ -113,17 +113,17 @@ public class Utils {
 		g.fill(s);
 		setTransparent(g, 1);
 
-		return getLine1ShapeArea(0, b, e, weight);// ûλƵĶֱ״
+		return getLine1ShapeArea(0, b, e, weight);// 返回没有位移的多边形直线状区域
 	}
 
 	/**
-	 * һֱ
-	 * @param g ͼ豸
-	 * @param b ߵ
-	 * @param e ߵյ
-	 * @param color ɫ
-	 * @param style 
-	 * @param weight ֶ
+	 * 绘制一条直线
+	 * @param g 图形设备
+	 * @param b 线的起点
+	 * @param e 线的终点
+	 * @param color 颜色
+	 * @param style 线型
+	 * @param weight 粗度
 	 */
 	public static void drawLine2(Graphics2D g, Point2D b, Point2D e,
 			Color color, int style, float weight) {
@@ -137,9 +137,9 @@ public class Utils {
 
 	public static String xToChinese(double dd) {
 		try {
-			String s = "Ҽ½ƾ";
-			// String s1 = "ʰǪʰǪʰǪ";
-			String s1 = "ʮǧʮǧʮǧ";
+			String s = "零壹贰叁肆伍陆柒捌玖";
+			// String s1 = "拾佰仟万拾佰仟亿拾佰仟万";
+			String s1 = "十百千万十百千亿十百千万";
 			String m;
 			int j;
 			StringBuffer k = new StringBuffer();
@@ -147,11 +147,11 @@ public class Utils {
 			for (j = m.length(); j >= 1; j--) {
 				char n = s.charAt(Integer.parseInt(m.substring(m.length() - j,
 						m.length() - j + 1)));
-				if (n == '' && k.charAt(k.length() - 1) == '') {
+				if (n == '零' && k.charAt(k.length() - 1) == '零') {
 					continue;
 				}
 				k.append(n);
-				if (n == '') {
+				if (n == '零') {
 					continue;
 				}
 				int u = j - 2;
@@ -159,16 +159,16 @@ public class Utils {
 					k.append(s1.charAt(u));
 				}
 				if (u > 3 && u < 7) {
-					k.append('');
+					k.append('万');
 				}
 				if (u > 7) {
-					k.append('');
+					k.append('亿');
 				}
 			}
-			if (k.length() > 0 && k.charAt(k.length() - 1) == '') {
+			if (k.length() > 0 && k.charAt(k.length() - 1) == '零') {
 				k.deleteCharAt(k.length() - 1);
 			}
-			if (k.length() > 0 && k.charAt(0) == 'Ҽ') {
+			if (k.length() > 0 && k.charAt(0) == '壹') {
 				k.deleteCharAt(0);
 			}
 			return k.toString();
@@ -179,10 +179,10 @@ public class Utils {
 	}
 
 	/**
-	 * б
-	 * @param list бݣҪֵΪɱȽϵ
-	 * @param ascend Ƿ
-	 * @return ɷtrue򷵻false
+	 * 对列表里面的数据排序
+	 * @param list 列表数据，要求值为可比较的
+	 * @param ascend 是否升序
+	 * @return 排序完成返回true，否则返回false
 	 */
 	public static boolean sort(AbstractList list, boolean ascend) {
 		Comparable ci, cj;
@@ -225,7 +225,7 @@ public class Utils {
 	}
 
 	/**
-	 * ĵ cx,cyc1c2ɫ״ɢݶ״s
+	 * 从中心点 cx,cy按c1到c2的颜色环状发散梯度填充形状s
 	 * 
 	 * @param s
 	 *            Shape
@@ -236,7 +236,7 @@ public class Utils {
 	 */
 	public static synchronized void fillRadioGradientShape(Graphics2D g,
 			Shape s, Color c1, Color c2, float transparent) {
-		// 򵥻ɫ
+		// 简单灰色填充好了
 		setTransparent(g, transparent);
 		g.setColor(Utils.getShadeColor(1));
 		g.fill(s);
@@ -244,7 +244,7 @@ public class Utils {
 	}
 
 	/**
-	 * 㷨ʹþεĶԽΪݶȵĳȣǶangleΪԽߴӵױʱתǶȣ
+	 * 该算法使用矩形的对角线为填充梯度的长度；角度angle为对角线从底边逆时针的旋转角度；
 	 * 
 	 * @param x
 	 * @param y
@@ -259,8 +259,8 @@ public class Utils {
 			double height, Color color1, Color color2, int angle) {
 		double x1 = 0, y1 = 0, x2 = 0, y2 = 0, h = 0;
 		h = height;
-		double antiAngleLen = Math.sqrt(width * width + h * h);// Խ߳
-		double rad = angle * Math.PI / 180;// ǶȵĻ
+		double antiAngleLen = Math.sqrt(width * width + h * h);// 对角线长度
+		double rad = angle * Math.PI / 180;// 角度的弧度数
 		if (angle >= 0 && angle <= 90) {
 			if (angle == 0) {
 				x1 = x;
@@ -320,14 +320,14 @@ public class Utils {
 	}
 
 	/**
-	 * ûͼ
-	 * @param g ͼ豸
-	 * @param x x
-	 * @param y y
-	 * @param width Ŀ
-	 * @param height ĸ߶
-	 * @param cc  ɫ
-	 * @return ɷtrue򷵻false
+	 * 设置绘图的填充风格
+	 * @param g 图形设备
+	 * @param x 填充的x坐标
+	 * @param y 填充的y坐标
+	 * @param width 填充的宽度
+	 * @param height 填充的高度
+	 * @param cc 定义了填充风格的 填充颜色类
+	 * @return 填充设置完成返回true，否则返回false
 	 */
 	public static boolean setPaint(Graphics2D g, double x, double y, double width,
 			double height, ChartColor cc) {
@@ -344,7 +344,7 @@ public class Utils {
 			return false;
 
 		switch (pattern) {
-		case Consts.PATTERN_DEFAULT: // ͼȫ
+		case Consts.PATTERN_DEFAULT: // 填充图案，全填充
 			if (cc.isGradient()) {
 				paint = getGradientPaint(x, y, width, height, c1, c2,
 						cc.getAngle());
@@ -353,7 +353,7 @@ public class Utils {
 				return true;
 			}
 			break;
-		case Consts.PATTERN_H_THIN_LINE: // ͼˮƽϸ
+		case Consts.PATTERN_H_THIN_LINE: // 填充图案，水平细线
 			rect = new Rectangle2D.Double(x + 1, y + 1, 6, 6);
 			tempbi = new BufferedImage(6, 6, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -366,7 +366,7 @@ public class Utils {
 			tempG.drawLine(0, 5, 6, 5);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_H_THICK_LINE: // ͼˮƽ
+		case Consts.PATTERN_H_THICK_LINE: // 填充图案，水平粗线
 			rect = new Rectangle2D.Double(x + 1, y + 1, 6, 6);
 			tempbi = new BufferedImage(6, 6, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -378,7 +378,7 @@ public class Utils {
 			tempG.drawLine(0, 5, 6, 5);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_V_THIN_LINE: // ͼֱϸ
+		case Consts.PATTERN_V_THIN_LINE: // 填充图案，垂直细线
 			rect = new Rectangle2D.Double(x + 1, y + 1, 6, 6);
 			tempbi = new BufferedImage(6, 6, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -391,7 +391,7 @@ public class Utils {
 			tempG.drawLine(5, 0, 5, 6);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_V_THICK_LINE: // ͼֱ
+		case Consts.PATTERN_V_THICK_LINE: // 填充图案，垂直粗线
 			rect = new Rectangle2D.Double(x + 1, y + 1, 6, 6);
 			tempbi = new BufferedImage(6, 6, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -403,7 +403,7 @@ public class Utils {
 			tempG.drawLine(5, 0, 5, 6);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_THIN_SLASH: // ͼϸб
+		case Consts.PATTERN_THIN_SLASH: // 填充图案，细斜线
 			rect = new Rectangle2D.Double(x + 1, y + 1, 3, 3);
 			tempbi = new BufferedImage(3, 3, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -414,7 +414,7 @@ public class Utils {
 			tempG.drawLine(0, 0, 3, 3);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_THICK_SLASH: // ͼб
+		case Consts.PATTERN_THICK_SLASH: // 填充图案，粗斜线
 			rect = new Rectangle2D.Double(x + 1, y + 1, 4, 4);
 			tempbi = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -429,7 +429,7 @@ public class Utils {
 			tempG.drawLine(-1, 3, 1, 5);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_THIN_BACKSLASH: // ͼϸб
+		case Consts.PATTERN_THIN_BACKSLASH: // 填充图案，细反斜线
 			rect = new Rectangle2D.Double(x + 1, y + 1, 3, 3);
 			tempbi = new BufferedImage(3, 3, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -440,7 +440,7 @@ public class Utils {
 			tempG.drawLine(2, 0, -1, 3);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_THICK_BACKSLASH: // ͼַб
+		case Consts.PATTERN_THICK_BACKSLASH: // 填充图案，粗反斜线
 			rect = new Rectangle2D.Double(x + 1, y + 1, 4, 4);
 			tempbi = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -455,7 +455,7 @@ public class Utils {
 			tempG.drawLine(3, 5, 5, 3);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_THIN_GRID: // ͼϸ
+		case Consts.PATTERN_THIN_GRID: // 填充图案，细网格
 			rect = new Rectangle2D.Double(x + 1, y + 1, 3, 3);
 			tempbi = new BufferedImage(3, 3, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -468,7 +468,7 @@ public class Utils {
 			tempG.drawLine(0, 1, 3, 1);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_THICK_GRID: // ͼ
+		case Consts.PATTERN_THICK_GRID: // 填充图案，粗网格
 			rect = new Rectangle2D.Double(x + 1, y + 1, 5, 5);
 			tempbi = new BufferedImage(5, 5, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -481,7 +481,7 @@ public class Utils {
 			tempG.drawLine(0, 3, 5, 3);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_THIN_BEVEL_GRID: // ͼϸб
+		case Consts.PATTERN_THIN_BEVEL_GRID: // 填充图案，细斜网格
 			rect = new Rectangle2D.Double(x + 1, y + 1, 5, 5);
 			tempbi = new BufferedImage(5, 5, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -494,7 +494,7 @@ public class Utils {
 			tempG.drawLine(0, 5, 5, 0);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_THICK_BEVEL_GRID: // ͼб
+		case Consts.PATTERN_THICK_BEVEL_GRID: // 填充图案，粗斜网格
 			rect = new Rectangle2D.Double(x + 1, y + 1, 6, 6);
 			tempbi = new BufferedImage(6, 6, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -508,7 +508,7 @@ public class Utils {
 			tempG.drawLine(0, 6, 6, 0);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_DOT_1: // ͼϡ
+		case Consts.PATTERN_DOT_1: // 填充图案，稀疏点
 			rect = new Rectangle2D.Double(x, y, 12, 12);
 			tempbi = new BufferedImage(12, 12, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -522,7 +522,7 @@ public class Utils {
 			tempG.drawLine(8, 9, 8, 9);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_DOT_2: // ͼϡ
+		case Consts.PATTERN_DOT_2: // 填充图案，较稀点
 			rect = new Rectangle2D.Double(x, y, 12, 12);
 			tempbi = new BufferedImage(12, 12, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -536,7 +536,7 @@ public class Utils {
 			tempG.drawLine(10, 7, 10, 7);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_DOT_3: // ͼܵ
+		case Consts.PATTERN_DOT_3: // 填充图案，较密点
 			rect = new Rectangle2D.Double(x, y, 9, 9);
 			tempbi = new BufferedImage(9, 9, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -551,7 +551,7 @@ public class Utils {
 			tempG.drawLine(8, 5, 8, 5);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_DOT_4: // ͼܵ
+		case Consts.PATTERN_DOT_4: // 填充图案，稠密点
 			rect = new Rectangle2D.Double(x, y, 4, 4);
 			tempbi = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -564,7 +564,7 @@ public class Utils {
 			tempG.drawLine(3, 1, 3, 1);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_SQUARE_FLOOR: // ͼذש
+		case Consts.PATTERN_SQUARE_FLOOR: // 填充图案，正方块地板砖
 			rect = new Rectangle2D.Double(0, 0, 8, 8);
 			tempbi = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -575,7 +575,7 @@ public class Utils {
 			tempG.fillRect(4, 4, 4, 4);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_DIAMOND_FLOOR: // ͼεذש
+		case Consts.PATTERN_DIAMOND_FLOOR: // 填充图案，菱形地板砖
 			rect = new Rectangle2D.Double(x + 1, y + 1, 8, 8);
 			tempbi = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -587,7 +587,7 @@ public class Utils {
 			tempG.fillPolygon(xs, ys, 4);
 			paint = new TexturePaint(tempbi, rect);
 			break;
-		case Consts.PATTERN_BRICK_WALL: // ͼשǽ
+		case Consts.PATTERN_BRICK_WALL: // 填充图案，砖墙
 			rect = new Rectangle2D.Double(x + 1, y + 1, 12, 12);
 			tempbi = new BufferedImage(12, 12, BufferedImage.TYPE_INT_RGB);
 			tempG = (Graphics2D) tempbi.getGraphics();
@@ -621,14 +621,14 @@ public class Utils {
 	private static ArrayList doubleStrokes = null;
 
 	/**
-	 * ûֱߵķ
+	 * 设置绘制直线的风格
 	 * @param g
 	 *            Graphics2D
 	 * @param c
-	 *            Color,Ϊnullãʾõǰɫ עnullǱʾǰɫ͸ɫ
-	 * @param style 
-	 * @param weight ֶ
-	 * @return boolean óɹtrue򷵻false
+	 *            Color,为null不设置，表示用当前的颜色 备注：null到底是表示当前画笔颜色还是透明色？
+	 * @param style 风格
+	 * @param weight 粗度
+	 * @return boolean 设置成功返回true，否则返回false
 	 */
 	public static boolean setStroke(Graphics2D g, Color c, int style,
 			float weight) {
@@ -753,12 +753,12 @@ public class Utils {
 	}
 
 	/**
-	 * ԻȽǶradianһͷʼdx,dyļͷ
-	 * @param g ͼ豸
-	 * @param dx ʵȵx
-	 * @param dy y
-	 * @param radian ƵĽǶֵ
-	 * @param style ͷ
+	 * 以弧度角度radian，画一个箭头起始于dx,dy的箭头
+	 * @param g 图形设备
+	 * @param dx 实数精度的x坐标
+	 * @param dy y坐标
+	 * @param radian 弧度制的角度值
+	 * @param style 箭头风格
 	 */
 	public static void drawLineArrow(Graphics2D g, double dx, double dy,
 			double radian, int style) {
@@ -772,7 +772,7 @@ public class Utils {
 		AffineTransform at1 = AffineTransform.getRotateInstance(radian, x, y);
 		g.transform(at1);
 		switch (style) {
-		case Consts.LINE_ARROW_NONE: // ޼ͷ
+		case Consts.LINE_ARROW_NONE: // 无箭头
 			break;
 		case Consts.LINE_ARROW:
 			x += 8;
@@ -780,13 +780,13 @@ public class Utils {
 			int[] ys_arr = { y, y - 4, y, y + 4 };
 			g.fillPolygon(xs_arr, ys_arr, 4);
 			break;
-		case Consts.LINE_ARROW_L://ͷ
+		case Consts.LINE_ARROW_L://左箭头
 			x -= 8;
 			int[] xl_arr = { x, x + 12, x+8, x + 12 };
 			int[] yl_arr = { y, y - 4, y, y + 4 };
 			g.fillPolygon(xl_arr, yl_arr, 4);
 			break;
-		case Consts.LINE_ARROW_BOTH: // ˫ͷ
+		case Consts.LINE_ARROW_BOTH: // 双箭头
 			x += 8;
 			int[] xs_bot = { x - 8, x - 12, x, x - 12 };
 			int[] ys_bot = { y, y - 4, y, y + 4 };
@@ -795,7 +795,7 @@ public class Utils {
 			int[] ys_bot2 = { y, y - 4, y, y + 4 };
 			g.fillPolygon(xs_bot2, ys_bot2, 4);
 			break;
-		case Consts.LINE_ARROW_HEART: // μͷ
+		case Consts.LINE_ARROW_HEART: // 心形箭头
 			int r_h = 4;
 			int cdy = (int) (r_h * 1.732d);
 			int cdx = 3 * r_h;
@@ -807,13 +807,13 @@ public class Utils {
 			int d2x = (int) 3.5 * r_h;
 			g.fillOval(x - d2x - r_h, y - d2y - r_h, 2 * r_h - 1, 2 * r_h - 1);
 			g.fillOval(x - d2x - r_h, y + d2y - r_h, 2 * r_h - 1, 2 * r_h - 1);
-			// νΣʵϾһμеԲ
+			// 所谓心形，实际上就是一个三角形加上两个和两腰相切的圆，在这里用正三角形来计算
 			break;
-		case Consts.LINE_ARROW_CIRCEL: // Բμͷ
+		case Consts.LINE_ARROW_CIRCEL: // 圆形箭头
 			x += 8;
 			g.fillOval(x - 8, y - 4, 8, 8);
 			break;
-		case Consts.LINE_ARROW_DIAMOND: // μͷ
+		case Consts.LINE_ARROW_DIAMOND: // 菱形箭头
 			x += 14;
 			int[] xs_dia = { x - 14, x - 7, x, x - 7 };
 			int[] ys_dia = { y, y - 4, y, y + 4 };
@@ -824,40 +824,40 @@ public class Utils {
 	}
 
 	/**
-	 * fontStyleжǷΪ
-	 * @param fontStyle 
-	 * @return ŷtrue򷵻false
+	 * 根据fontStyle判断是否为竖排文字
+	 * @param fontStyle 字体风格
+	 * @return 竖排返回true，否则返回false
 	 */
 	public static boolean isVertical(int fontStyle) {
 		return (fontStyle & Consts.FONT_VERTICAL) != 0;
 	}
 
 	/**
-	 * fontStyleжǷΪ»
-	 * @param fontStyle 
-	 * @return »߷true򷵻false
+	 * 根据fontStyle判断是否为下划线文字
+	 * @param fontStyle 字体风格
+	 * @return 有下划线返回true，否则返回false
 	 */
 	public static boolean isUnderline(int fontStyle) {
 		return (fontStyle & Consts.FONT_UNDERLINE) != 0;
 	}
 
 	/**
-	 * fontStyleжǷΪ
-	 * @param fontStyle 
-	 * @return д巵true򷵻false
+	 * 根据fontStyle判断是否为粗体文字
+	 * @param fontStyle 字体风格
+	 * @return 有粗体返回true，否则返回false
 	 */
 	public static boolean isBold(int fontStyle) {
 		return (fontStyle & Consts.FONT_BOLD) != 0;
 	}
 
 	/**
-	 * ȡıռõĿߣʹRectangleĿ͸ߴ洢Ϣ
-	 * @param text Ҫı
-	 * @param g ͼ豸
-	 * @param fontStyle 
-	 * @param angle ıתǶ
-	 * @param font 
-	 * @return δ洢ĿϢ
+	 * 获取文本占用的宽高，使用Rectangle的宽和高存储信息
+	 * @param text 要测量的文本
+	 * @param g 图形设备
+	 * @param fontStyle 风格
+	 * @param angle 文本的旋转角度
+	 * @param font 字体
+	 * @return 矩形存储的宽高信息
 	 */
 	public static Rectangle getTextSize(String text, java.awt.Graphics g,
 			int fontStyle, int angle, Font font) {
@@ -866,13 +866,13 @@ public class Utils {
 	}
 
 	/**
-	 * ȡıռõĿߣʹRectangleĿ͸ߴ洢Ϣ
-	 * @param text Ҫı
-	 * @param g ͼ豸
-	 * @param vertical Ƿֱ
-	 * @param angle תǶ
-	 * @param font 
-	 * @return δ洢ĿϢ
+	 * 获取文本占用的宽高，使用Rectangle的宽和高存储信息
+	 * @param text 要测量的文本
+	 * @param g 图形设备
+	 * @param vertical 是否垂直绘制
+	 * @param angle 旋转角度
+	 * @param font 字体
+	 * @return 矩形存储的宽高信息
 	 */
 	public static Rectangle getTextSize(String text, java.awt.Graphics g,
 			boolean vertical, int angle, Font font) {
@@ -887,7 +887,7 @@ public class Utils {
 		} else {
 			rect = getRotationArea(text, g, angle, font);
 		}
-		// added by bdl, 2009.5.8, תǶȲΪ0ʱrectĿȻ߸߶пֵܲյȲ鷳ȫΪֵ
+		// added by bdl, 2009.5.8, 在旋转角度不为0时，rect的宽度或者高度有可能产生负值，给留空等操作带来麻烦，全设为正值
 		if (rect.width < 0) {
 			rect.width = -rect.width;
 		}
@@ -901,19 +901,19 @@ public class Utils {
 		for (int i = 0; i < text.length(); i++) {
 			char c = text.charAt(i);
 			if (c > 255) {
-				return "";
+				return "汉";
 			}
 		}
 		return "A";
 	}
 
 	/**
-	 * ıŰʱĿ
-	 * @param text Ҫı
-	 * @param g ͼ豸
-	 * @param angle תǶ
-	 * @param font 
-	 * @return δ洢ĿϢ
+	 * 文本竖排排版时的宽高
+	 * @param text 要测量的文本
+	 * @param g 图形设备
+	 * @param angle 旋转角度
+	 * @param font 字体
+	 * @return 矩形存储的宽高信息
 	 */
 	public static Rectangle getVerticalArea(String text, java.awt.Graphics g,
 			int angle, Font font) {
@@ -949,11 +949,11 @@ public class Utils {
 	}
 
 	/**
-	 * ıˮƽŰʱĿ
-	 * @param text Ҫı
-	 * @param g ͼ豸
-	 * @param font 
-	 * @return δ洢ĿϢ
+	 * 文本水平排版时的宽高
+	 * @param text 要测量的文本
+	 * @param g 图形设备
+	 * @param font 字体
+	 * @return 矩形存储的宽高信息
 	 */
 	public static Rectangle getHorizonArea(String text, java.awt.Graphics g,
 			Font font) {
@@ -967,12 +967,12 @@ public class Utils {
 	}
 
 	/**
-	 * ıתǶŰʱռõĿ
-	 * @param text Ҫı
-	 * @param g ͼ豸
-	 * @param angle תǶ
-	 * @param font 
-	 * @return δ洢ĿϢ
+	 * 文本旋转角度排版时占用的宽高
+	 * @param text 要测量的文本
+	 * @param g 图形设备
+	 * @param angle 旋转角度
+	 * @param font 字体
+	 * @return 矩形存储的宽高信息
 	 */
 	public static Rectangle getRotationArea(String text, java.awt.Graphics g,
 			int angle, Font font) {
@@ -998,16 +998,16 @@ public class Utils {
 	}
 
 	/**
-	 * ָλûһı
-	 * @param g ͼ豸
-	 * @param txt ҪƵı
-	 * @param dx x
-	 * @param dy y
-	 * @param font 
-	 * @param c ǰɫ
-	 * @param fontStyle 
-	 * @param angle תǶ
-	 * @param location ıĵƫλãֵοConsts.LOCATION_XX
+	 * 根据指定参数和位置绘制一串文本
+	 * @param g 图形设备
+	 * @param txt 要绘制的文本
+	 * @param dx 横坐标x
+	 * @param dy 纵坐标y
+	 * @param font 字体
+	 * @param c 前景色
+	 * @param fontStyle 风格
+	 * @param angle 旋转角度
+	 * @param location 相对于文本中心点的偏移位置，值参考Consts.LOCATION_XX
 	 */
 	public static void drawText(Graphics2D g, String txt, double dx, double dy,
 			Font font, Color c, int fontStyle, int angle, int location) {
@@ -1015,17 +1015,17 @@ public class Utils {
 	}
 
 	/**
-	 * ָһı
-	 * @param g ͼ豸
-	 * @param txt ҪƵı
-	 * @param dx x
-	 * @param dy y
-	 * @param font 
-	 * @param c ǰɫ
-	 * @param backC ɫ
-	 * @param fontStyle 
-	 * @param angle תǶ
-	 * @param location ıĵƫλãֵοConsts.LOCATION_XX
+	 * 根据指定参数绘制一段文本
+	 * @param g 图形设备
+	 * @param txt 要绘制的文本
+	 * @param dx 横坐标x
+	 * @param dy 纵坐标y
+	 * @param font 字体
+	 * @param c 前景色
+	 * @param backC 背景色
+	 * @param fontStyle 风格
+	 * @param angle 旋转角度
+	 * @param location 相对于文本中心点的偏移位置，值参考Consts.LOCATION_XX
 	 */
 	public static void drawText(Graphics2D g, String txt, double dx, double dy,
 			Font font, Color c, Color backC, int fontStyle, int angle,
@@ -1035,17 +1035,17 @@ public class Utils {
 	}
 
 	/**
-	 * ָһı
-	 * @param e ͼ
-	 * @param txt ҪƵı
-	 * @param dx x
-	 * @param dy y
-	 * @param font 
-	 * @param c ǰɫ
-	 * @param fontStyle 
-	 * @param angle תǶ
-	 * @param location ıĵƫλãֵοConsts.LOCATION_XX
-	 * @param allowIntersect Ƿص(صʱصı)
+	 * 根据指定参数绘制一段文本
+	 * @param e 绘图引擎
+	 * @param txt 要绘制的文本
+	 * @param dx 横坐标x
+	 * @param dy 纵坐标y
+	 * @param font 字体
+	 * @param c 前景色
+	 * @param fontStyle 风格
+	 * @param angle 旋转角度
+	 * @param location 相对于文本中心点的偏移位置，值参考Consts.LOCATION_XX
+	 * @param allowIntersect 是否允许文字重叠(不允许重叠时，后面的重叠文本将忽略)
 	 */
 	public static void drawText(Engine e, String txt, double dx, double dy,
 			Font font, Color c, int fontStyle, int angle, int location,
@@ -1055,17 +1055,17 @@ public class Utils {
 	}
 
 	/**
-	 * ָһı
-	 * @param e ͼ
-	 * @param txt ҪƵı
-	 * @param dx x
-	 * @param dy y
-	 * @param font 
-	 * @param c ǰɫ
-	 * @param fontStyle 
-	 * @param angle תǶ
-	 * @param location ıĵƫλãֵοConsts.LOCATION_XX
-	 * @param allowIntersect Ƿص(صʱصı)
+	 * 根据指定参数绘制一段文本
+	 * @param e 绘图引擎
+	 * @param txt 要绘制的文本
+	 * @param dx 横坐标x
+	 * @param dy 纵坐标y
+	 * @param font 字体
+	 * @param c 前景色
+	 * @param fontStyle 风格
+	 * @param angle 旋转角度
+	 * @param location 相对于文本中心点的偏移位置，值参考Consts.LOCATION_XX
+	 * @param allowIntersect 是否允许文字重叠(不允许重叠时，后面的重叠文本将忽略)
 	 */
 	public static void drawText(Engine e, String txt, double dx, double dy,
 			Font font, Color c, Color backC, int fontStyle, int angle,
@@ -1075,23 +1075,23 @@ public class Utils {
 	}
 
 	/**
-	 * ıλʱõĵ㣻ʵʻıͼƬʱ
-	 * isImageʱҪ任ΪϽǣ ıʱ任Ϊ½ǣ
-	 * Ϊg½ǻı ϽǻͼΡ
-	 * @param posDesc ĵıλ
-	 * @param location ıĵķλ
-	 * @param isImage ǷͼΣı㷨
-	 * @return ͼ豸ֱʵ
+	 * 由于描述文本位置时，采用的是中心点；而实际绘制文本或者图片时，
+	 * isImage时，要变换为左上角， 文本时变换为左下角；
+	 * 因为g在左下角绘制文本， 左上角绘制图形。
+	 * @param posDesc 根据中心点描述的文本位置
+	 * @param location 文本相对中心点的方位
+	 * @param isImage 是否绘制图形，否则按文本算法
+	 * @return 图形设备直接输出的实际坐标
 	 */
 	public static Point getRealDrawPoint(Rectangle posDesc, int location,boolean isImage) {
 		Rectangle rect = posDesc;
-		// ͼĵ
+		// 绘图中心点
 		int xloc = rect.x;
 		int yloc = rect.y;
 
 		if (location == Consts.LOCATION_LT || location == Consts.LOCATION_CT
 				|| location == Consts.LOCATION_RT) {
-			// ϱߣҪ½ǵy
+			// 所给点在上边，需要求到左下角的y坐标
 			if (isImage) {
 				yloc -= rect.height;
 			} else {
@@ -1100,7 +1100,7 @@ public class Utils {
 		} else if (location == Consts.LOCATION_LM
 				|| location == Consts.LOCATION_CM
 				|| location == Consts.LOCATION_RM) {
-			// οм䣬Ҫ½y
+			// 所给参考点在中间，需要求到左下角y坐标
 			if (isImage) {
 				yloc -= rect.height / 2;
 			} else {
@@ -1111,12 +1111,12 @@ public class Utils {
 		}
 		if (location == Consts.LOCATION_RT || location == Consts.LOCATION_RM
 				|| location == Consts.LOCATION_RB) {
-			// ұߣҪ½ǵx
+			// 所给点在右边，需要求到左下角的x坐标
 			xloc -= rect.width;
 		} else if (location == Consts.LOCATION_CT
 				|| location == Consts.LOCATION_CM
 				|| location == Consts.LOCATION_CB) {
-			// οм䣬Ҫ½x
+			// 所给参考点在中间，需要求到左下角x坐标
 			xloc -= rect.width / 2;
 		} else {
 			xloc += 1;
@@ -1125,19 +1125,19 @@ public class Utils {
 	}
 
 	/**
-	 * ָһı
-	 * @param e ͼ
-	 * @param txt ҪƵı
-	 * @param dx x
-	 * @param dy y
-	 * @param font 
-	 * @param c ǰɫ
-	 * @param backC ɫ
-	 * @param fontStyle 
-	 * @param angle תǶ
-	 * @param location ıĵƫλãֵοConsts.LOCATION_XX
-	 * @param allowIntersect Ƿص(صʱصı)
-	 * @param g ͼ豸
+	 * 根据指定参数绘制一段文本
+	 * @param e 绘图引擎
+	 * @param txt 要绘制的文本
+	 * @param dx 横坐标x
+	 * @param dy 纵坐标y
+	 * @param font 字体
+	 * @param c 前景色
+	 * @param backC 背景色
+	 * @param fontStyle 风格
+	 * @param angle 旋转角度
+	 * @param location 相对于文本中心点的偏移位置，值参考Consts.LOCATION_XX
+	 * @param allowIntersect 是否允许文字重叠(不允许重叠时，后面的重叠文本将忽略)
+	 * @param g 图形设备
 	 */
 	public static void drawText(Engine e, String txt, double dx, double dy,
 			Font font, Color c, Color backC, int fontStyle, int angle,
@@ -1150,7 +1150,7 @@ public class Utils {
 		boolean vertical = isVertical(fontStyle);
 		FontMetrics fm = g.getFontMetrics(font);
 
-		// ֲص
+		// 文字不重叠
 		Rectangle rect = getTextSize(txt, g, vertical, angle, font);
 		rect.x = x;
 		rect.y = y;
@@ -1172,7 +1172,7 @@ public class Utils {
 		Utils.setGraphAntiAliasingOff(g);
 
 		if (!vertical) {
-			// 
+			// 非竖排文字
 			if (angle != 0) {
 				AffineTransform at = g.getTransform();
 				Rectangle rect2 = getTextSize(txt, g, vertical, 0, font);
@@ -1221,9 +1221,9 @@ public class Utils {
 				g.drawString(txt, xloc, yloc);
 			}
 		} else {
-			// ֣תǶȵĻڱȽֵʹ
-			// ÿȥתȻŵĻпܲڵ֧תķʽ
-			// ڿתʱΪЧʣֻʹõһַ㣬ҪӢŵ֣ôҲûа취
+			// 竖排文字，竖排文字如果有旋转角度的话，属于比较奇怪的使用
+			// 由于每个字去旋转然后竖排的话，有可能产生遮挡，所以这里采用支持竖排了再旋转的方式
+			// 在考察竖排旋转的文字时，为了效率，只使用第一个字符计算，如果非要竖排中英混排的文字，那么乱了也没有办法
 			AffineTransform at = g.getTransform();
 			Rectangle rect2 = getTextSize(txt, g, vertical, 0, font);
 			rect2.setLocation(xloc, yloc - rect2.height);
@@ -1259,8 +1259,8 @@ public class Utils {
 			g.setTransform(at);
 		}
 		if (isUnderline(fontStyle)) {
-			// Ҫ»ߣһĿǰֻں֣Ҳתʱ򻭣
-			// /ںŻתǶȵĻôú
+			// 需要下划线，画一条（目前只在横排文字，且不旋转的时候画）
+			// /至于横排或者是旋转个角度的话怎么处理，置后。
 			if (!vertical && angle == 0) {
 				setStroke(g, null, Consts.LINE_SOLID, 0.5f);
 				drawLine(g, xloc, yloc + 2, xloc + rect.width, yloc + 2);
@@ -1270,12 +1270,12 @@ public class Utils {
 	}
 
 	/**
-	 * ıʱͬΪ˻ܣnew
-	 * 建ȡӦ
-	 * @param fontName 
-	 * @param fontStyle 
-	 * @param fontSize ֺ
-	 * @return 
+	 * 大量绘制文本时，由于字体大多相同，为了绘制性能，避免大量new字体对象
+	 * 采用字体缓存获取对应字体
+	 * @param fontName 字体名称
+	 * @param fontStyle 风格
+	 * @param fontSize 字号
+	 * @return 字体对象
 	 */
 	public synchronized static Font getFont(String fontName, int fontStyle,
 			int fontSize) {
@@ -1297,10 +1297,10 @@ public class Utils {
 	}
 
 	/**
-	 * ıתǶȼʵʻıʱ
-	 * ıĵķλ
-	 * @param angle תǶ
-	 * @return ĵķλֵΪConsts.LOCATION_XX
+	 * 根据文本的旋转角度计算出实际绘制文本时，
+	 * 文本的相对中心点的方位
+	 * @param angle 旋转角度
+	 * @return 相对中心点的方位，值为Consts.LOCATION_XX
 	 */
 	public static int getAngleTextLocation(double angle) {
 		if (angle == 0) {
@@ -1326,9 +1326,9 @@ public class Utils {
 	}
 
 	/**
-	 * жͼԪбǷжѻԣѻͼ귶ΧҪۼƼ
-	 * @param dataElements ͼԪб
-	 * @return жѻͷtrue򷵻false
+	 * 判断数据图元列表里面是否含有堆积类型属性，堆积图的坐标范围需要累计计算
+	 * @param dataElements 数据图元列表
+	 * @return 如果有堆积类型返回true，否则返回false
 	 */
 	public static boolean isStackedGraph(ArrayList dataElements) {
 		for (int i = 0; i < dataElements.size(); i++) {
@@ -1343,20 +1343,20 @@ public class Utils {
 	}
 
 	/**
-	 * ʵoformatʽΪı
-	 * @param o ֵ
-	 * @param format ʽϢ
-	 * @return ʽı
+	 * 将实数o按照format格式化为文本
+	 * @param o 数值
+	 * @param format 格式信息
+	 * @return 格式化后的文本
 	 */
 	public static String format(double o, String format) {
 		return format(new java.lang.Double(o), format);
 	}
 
 	/**
-	 * oformatʽΪı
-	 * @param o ͵(õڣֵԼб)
-	 * @param format ʽϢ
-	 * @return ʽı
+	 * 将数据o按照format格式化为文本
+	 * @param o 任意类型的数据(常用的日期，数值，以及列表等)
+	 * @param format 格式信息
+	 * @return 格式化后的文本
 	 */
 	public static String format(Object o, String format) {
 		if (o instanceof Date) {
@@ -1401,15 +1401,15 @@ public class Utils {
 	};
 
 	/**
-	 * ָ״
-	 * @param g ͼ豸
-	 * @param shape Ҫ״
-	 * @param transparent ͸
-	 * @param c ɫֵΪnullʾǰ״͸䡣
+	 * 按照指定参数给形状设置填充
+	 * @param g 图形设备
+	 * @param shape 需要填充的形状
+	 * @param transparent 填充透明度
+	 * @param c 填充颜色，如果该值为null，则表示当前形状透明，不做填充。
 	 */
 	public static void fill(Graphics2D g, Shape shape, float transparent,
 			Color c) {
-		if (c == null) {// ͸ɫ
+		if (c == null) {// 透明色，不填充
 			return;
 		}
 		g.setColor(c);
@@ -1419,10 +1419,10 @@ public class Utils {
 	}
 
 	/**
-	 * ʹͼ豸ǰɫָٰ״
-	 * @param g ͼ豸
-	 * @param shape Ҫ״
-	 * @param transparent ͸
+	 * 使用图形设备当前颜色，再按照指定参数给形状设置填充
+	 * @param g 图形设备
+	 * @param shape 需要填充的形状
+	 * @param transparent 填充透明度
 	 */
 	public static void fillPaint(Graphics2D g, Shape shape, float transparent) {
 		setTransparent(g, transparent);
@@ -1431,9 +1431,9 @@ public class Utils {
 	}
 
 	/**
-	 * ͼ豸ǰ͸
-	 * @param g ͼ豸
-	 * @param transparent ͸ȣȡֵΧΪ[0,1]Խֵ01
+	 * 设置图形设备当前的透明度
+	 * @param g 图形设备
+	 * @param transparent 透明度，取值范围为区间[0,1]，越界的数值当0或1处理
 	 */
 	public static void setTransparent(Graphics2D g, float transparent) {
 		if (transparent > 1) {
@@ -1446,23 +1446,23 @@ public class Utils {
 	}
 
 	/**
-	 * ڵǰͼ豸»һ߶
-	 * @param g ͼ豸
-	 * @param b ʼ
-	 * @param e 
+	 * 在当前的图形设备环境下绘制一条线段
+	 * @param g 图形设备
+	 * @param b 起始点
+	 * @param e 结束点
 	 */
 	public static void drawLine(Graphics2D g, Point2D b, Point2D e) {
 		drawLine(g,b,e,Consts.LINE_ARROW_NONE);
 	}
 	
 	/**
-	 * ڵǰͼ豸»һͷ߶
-	 * @param g ͼ豸
-	 * @param b ʼ
-	 * @param e 
-	 * @param arrow ͷ״ֵ֧
-	 * Consts.LINE_ARROW Ҽͷ
-	 * Consts.LINE_ARROW_L ʼ㴦ͷ 
+	 * 在当前的图形设备环境下绘制一条带箭头的线段
+	 * @param g 图形设备
+	 * @param b 起始点
+	 * @param e 结束点
+	 * @param arrow 箭头形状，值仅支持
+	 * Consts.LINE_ARROW 结束点出绘制右箭头
+	 * Consts.LINE_ARROW_L 起始点处绘制左箭头 
 	 */
 	public static void drawLine(Graphics2D g, Point2D b, Point2D e, int arrow) {
 		if (b == null || e == null) {
@@ -1472,20 +1472,20 @@ public class Utils {
 	}
 
 	/**
-	 * ָһľΣӦͼԪ
-	 * @param g ͼ豸
-	 * @param x x
-	 * @param y y
-	 * @param w 
-	 * @param h ߶
-	 * @param borderColor ߿ɫ
-	 * @param borderStyle ߿
-	 * @param borderWeight ߿ֶ
-	 * @param drawShade Ӱ
-	 * @param convexEdge Ƿ͹߿
-	 * @param transparent ͸
-	 * @param fillColor ɫ
-	 * @param isVertical Ƿ(ӵĺݲͬʱõ佥ɫͬ)
+	 * 按照指定参数绘制一个填充的矩形，对应于柱图元
+	 * @param g 图形设备
+	 * @param x x坐标
+	 * @param y y坐标
+	 * @param w 宽度
+	 * @param h 高度
+	 * @param borderColor 边框颜色
+	 * @param borderStyle 边框风格
+	 * @param borderWeight 边框粗度
+	 * @param drawShade 绘制阴影
+	 * @param convexEdge 是否凸出边框
+	 * @param transparent 填充透明度
+	 * @param fillColor 填充颜色
+	 * @param isVertical 是否竖向柱子(柱子的横纵不同时，采用的填充渐变色不同)
 	 */
 	public static void draw2DRect(Graphics2D g, double x, double y, double w, double h,
 			Color borderColor, int borderStyle, float borderWeight,
@@ -1500,7 +1500,7 @@ public class Utils {
 			Utils.setPaint(g, x, y, w, h, fillColor);
 			fillRect(g, x, y, w, h);
 		}else if (fillColor.getColor1() != null) {
-			// Ч
+			// 炫效果
 			if (fillColor.isDazzle()) {
 				CubeColor ccr = new CubeColor(fillColor.getColor1());
 				Color c1 = ccr.getR1(), c2 = ccr.getT1();
@@ -1544,7 +1544,7 @@ public class Utils {
 			drawRaisedBorder(g, x, y, w, h, fillColor.getColor1());
 		}
 		if (setStroke(g, borderColor, borderStyle, borderWeight)) {
-			if (borderColor != null) {// ߿colorΪnullʾõǰʹеĻ
+			if (borderColor != null) {// 边框color为null表示用当前使用中的画笔
 				g.setColor(borderColor);
 			}
 			drawRect(g,x, y, w, h);
@@ -1553,11 +1553,11 @@ public class Utils {
 	}
 
 	/**
-	 * ȡĻ·(Ƚʱ׼ȷܼʱjavabugƵߴ)
-	 * ʹø÷ƶ߶
-	 * @param points 
-	 * @param closePath Ƿ·
-	 * @return ·
+	 * 获取多个坐标点的绘制路径(点比较少时准确，点多且密集时，java有bug，绘制的线错误)
+	 * 避免使用该方法绘制多条线段
+	 * @param points 点坐标
+	 * @param closePath 是否封闭路径
+	 * @return 绘制路径
 	 */
 	public static Path2D getPath2D(ArrayList<Point2D> points, boolean closePath) {
 		Path2D.Double path2D = new Path2D.Double();
@@ -1579,10 +1579,10 @@ public class Utils {
 		return newPolygon2DShape(x,y);
 	}
 	/**
-	 * ·Ӹĵ
-	 * @param x x
-	 * @param y y
-	 * @return ·״
+	 * 采用路径依次连接给定的点坐标
+	 * @param x x坐标
+	 * @param y y坐标
+	 * @return 封闭路径的形状
 	 */
 	public static Shape newPolygon2DShape(double[] x, double[] y) {
 		Path2D.Double polygon2D = new Path2D.Double();
@@ -1596,8 +1596,8 @@ public class Utils {
 
 	private static void drawRaisedBorder(Graphics2D g, double x, double y, double w,
 			double h, Color borderColor) {
-		// ̫ϸҲ͹߿
-		// T1R1԰.ɫ͹߿򲻺ÿɫʱ͹߿ԣ
+		// 太细的柱子也不绘制凸出边框
+		// T1最亮，R1相对暗.渐变色的凸出边框不好看，渐变色时忽略凸出边框属性；
 		Color dazzel = CubeColor.getDazzelColor(borderColor);
 		CubeColor ccr = new CubeColor(dazzel);
 		int d = 5;
@@ -1616,13 +1616,13 @@ public class Utils {
 	}
 
 	/**
-	 * ָƾӰ
-	 * @param g ͼ豸
-	 * @param x x
-	 * @param y y
-	 * @param w 
-	 * @param h ߶
-	 * @return ӰͨҪƫƣƫλ
+	 * 在指定区域绘制矩形阴影
+	 * @param g 图形设备
+	 * @param x x坐标
+	 * @param y y坐标
+	 * @param w 宽度
+	 * @param h 高度
+	 * @return 阴影通常需要偏移，返回这个偏移量，单位像素
 	 */
 	public static int drawRectShadow(Graphics2D g, double x, double y, double w, double h) {
 		if (w == 0 || h == 0)
@@ -1690,9 +1690,9 @@ public class Utils {
 	}
 
 	/**
-	 * ȡʵ3Dƽ̨ĺȣ̫Ҳ̫
-	 * @param coorShift 3Dƫ
-	 * @return ƫ
+	 * 获取合适的3D坐标平台的厚度，不能太厚，也不能太薄
+	 * @param coorShift 3D坐标偏移量
+	 * @return 调整后的适中偏移量
 	 */
 	public static double getPlatformH(double coorShift) {
 		double h = coorShift;
@@ -1704,21 +1704,21 @@ public class Utils {
 	}
 
 	/**
-	 * ָװΪάʹ
-	 * @param x x
-	 * @param y y
-	 * @param w 
-	 * @param h ߶
-	 * @param borderColor ߿ɫ
-	 * @param borderStyle ߿
-	 * @param borderWeight ߿ֶ
-	 * @param drawShade ǷӰ
-	 * @param convexEdge Ƿ͹߿
-	 * @param transparent ͸
-	 * @param fillColor ɫ
-	 * @param isVertical Ƿ
-	 * @param coorShift ά
-	 * @return ķװ
+	 * 将指定参数封装为三维立体柱描述对象，使代码更简洁
+	 * @param x x坐标
+	 * @param y y坐标
+	 * @param w 宽度
+	 * @param h 高度
+	 * @param borderColor 边框颜色
+	 * @param borderStyle 边框风格
+	 * @param borderWeight 边框粗度
+	 * @param drawShade 是否绘制阴影
+	 * @param convexEdge 是否凸出边框
+	 * @param transparent 填充透明度
+	 * @param fillColor 填充颜色
+	 * @param isVertical 是否竖向柱子
+	 * @param coorShift 三维厚度
+	 * @return 包含上述参数的封装类
 	 */
 	public static Desc3DRect get3DRect(double x, double y, double w, double h,
 			Color borderColor, int borderStyle, float borderWeight,
@@ -1742,9 +1742,9 @@ public class Utils {
 	}
 
 	/**
-	 * ʹάһ
-	 * @param g ͼ豸
-	 * @param d3 װ
+	 * 使用三维描述的立体柱，绘制一个立方体
+	 * @param g 图形设备
+	 * @param d3 封装了立方体参数的描述对象
 	 */
 	public static void draw3DRect(Graphics2D g, Desc3DRect d3) {
 		draw3DRect(g, d3.x, d3.y, d3.w, d3.h, d3.borderColor, d3.borderStyle,
@@ -1753,12 +1753,12 @@ public class Utils {
 	}
 
 	/**
-	 * ָλðûһ 3Dӻϱ߿ͲÿˣborderColorΪnullΪ͸ɫ
-	 * Ϊʹõǰɫ
-	 * سӵ״ isDrawTop,isDrawRight,
-	 * Ƿƶߣӣұߣ״ѡиֵۻʱ
-	 * ۻ෴ԣһ
-	 * ȫĶƶӼ串
+	 * 在指定位置按照配置绘制一个立体柱子 3D柱子画上边框就不好看了，所以borderColor为null是为透明色，
+	 * 不解释为使用当前颜色
+	 * 返回超链接的区域形状 isDrawTop,isDrawRight,
+	 * 是否绘制顶边（纵向柱子），或者右边（横向条状），该选项用于有负值累积时
+	 * 由于累积方向相反，所以，除第一个靠近
+	 * 轴的柱子全画，其余的都不绘制顶部，否则会造成柱子间覆盖
 	 */
 	public static void draw3DRect(Graphics2D g, double x, double y, double w, double h,
 			Color borderColor, int borderStyle, float borderWeight,
@@ -1770,7 +1770,7 @@ public class Utils {
 		}
 		CubeColor ccr = new CubeColor(fillColor.getColor1());
 		if (transparent < 1) {
-			// 1:ڵı棬͸ʱܿ
+			// 1:被遮挡的背面，透明时才能看到；
 			// g.setColor(fillColor.getColor1());
 			Utils.fill(g, new Rectangle2D.Double(x + coorShift, y - coorShift, w, h),
 					transparent, fillColor.getColor1());
@@ -1778,7 +1778,7 @@ public class Utils {
 					&& borderColor != null) {
 				drawRect(g,x + coorShift, y - coorShift, w, h);
 			}
-			// 2:ڵĵ
+			// 2:被遮挡的底面
 			double[] xPointsB = { x, x + w, x + w + coorShift, x + coorShift };
 			double[] yPointsB = { y + h, y + h, y + h - coorShift,y + h - coorShift };
 			poly = newPolygon2D(xPointsB, yPointsB);
@@ -1789,7 +1789,7 @@ public class Utils {
 				g.draw(poly);
 			}
 
-			// 3:ڵ
+			// 3:被遮挡的左侧面
 			double[] xPointsL = { x, x, x + coorShift, x + coorShift };
 			double[] yPointsL = { y, y + h, y + h - coorShift, y - coorShift };
 			// g.setColor(fillColor.getColor1());
@@ -1801,7 +1801,7 @@ public class Utils {
 			}
 		}
 		Rectangle bound;
-		// 4:ұ߲
+		// 4:右边侧面
 		// if (isDrawRight) {
 		double[] xPointsR = { x + w, x + w, x + w + coorShift, x + w + coorShift };
 		double[] yPointsR = { y, y + h, y + h - coorShift, y - coorShift };
@@ -1833,13 +1833,13 @@ public class Utils {
 		}
 		// }
 
-		// 5:
+		// 5:顶面
 		// if (isDrawTop) {
 		double[] xPointsT = { x, x + w, x + w + coorShift, x + coorShift };
 		double[] yPointsT = { y, y, y - coorShift, y - coorShift };
 		poly = newPolygon2D(xPointsT, yPointsT);
 		bound = poly.getBounds();
-		if (fillColor.isGradient()) {// Ͷ涼ʹýʱ
+		if (fillColor.isGradient()) {// ，右面和顶面都使用渐变时就炫
 			ChartColor tmpcc = new ChartColor();
 			tmpcc.setGradient(true);
 			tmpcc.setAngle(180);
@@ -1866,8 +1866,8 @@ public class Utils {
 		// }
 
 		boolean isSet = false;
-		if (fillColor.isDazzle()) {// ֻǰǷЧ
-			// ǰ
+		if (fillColor.isDazzle()) {// 只有前面得区分是否炫效果
+			// 前面
 			ChartColor tmpcc = new ChartColor();
 			if (isVertical) {
 				tmpcc.setColor1(ccr.getF1());
@@ -1929,17 +1929,17 @@ public class Utils {
 	}
 
 	/**
-	 * ָһƽͼ
-	 * @param g ͼ豸
-	 * @param ellipseBounds ͼεı߽
-	 * @param startAngle εʼǶ
-	 * @param extentAngle ǶȳȷΧ(ʼ5ȣƳ45ȣʾ5Ȼ50ȵһ)
-	 * @param borderColor ߿ɫ
-	 * @param borderStyle ߿
-	 * @param borderWeight ߿ֶ
-	 * @param transparent ͸
-	 * @param fillColor ɫ
-	 * @param dazzelCount ߿ŵĺ
+	 * 按照指定参数绘制一个平面饼图
+	 * @param g 图形设备
+	 * @param ellipseBounds 饼图或扇形的边界
+	 * @param startAngle 扇形的起始角度
+	 * @param extentAngle 角度长度范围(比如起始5度，绘制长度45度，表示从5度画到50度的一个扇形)
+	 * @param borderColor 边框颜色
+	 * @param borderStyle 边框风格
+	 * @param borderWeight 边框粗度
+	 * @param transparent 透明度
+	 * @param fillColor 填充颜色
+	 * @param dazzelCount 边框炫的厚度
 	 */
 	public static void draw2DPie(Graphics2D g, Rectangle2D ellipseBounds,
 			double startAngle, double extentAngle, Color borderColor,
@@ -1951,18 +1951,18 @@ public class Utils {
 	}
 
 	/**
-	 * ָεʵ
-	 * @param g ͼ豸
-	 * @param ellipseBounds ͼεı༭
-	 * @param startAngle ʼǶ
-	 * @param extentAngle ǶȷΧ
-	 * @param borderColor ߿ɫ
-	 * @param borderStyle ߿
-	 * @param borderWeight ߿ֶ
-	 * @param transparent ͸
-	 * @param fillColor ɫ
-	 * @param dazzelCount ߿ŵĺ
-	 * @param arcType ֵͣοArc2D.XXX
+	 * 按照指定参数绘制扇形的实现
+	 * @param g 图形设备
+	 * @param ellipseBounds 饼图或扇形的编辑
+	 * @param startAngle 起始角度
+	 * @param extentAngle 角度范围
+	 * @param borderColor 边框颜色
+	 * @param borderStyle 边框风格
+	 * @param borderWeight 边框粗度
+	 * @param transparent 透明度
+	 * @param fillColor 填充颜色
+	 * @param dazzelCount 边框炫的厚度
+	 * @param arcType 弧的类型，值参考：Arc2D.XXX
 	 */
 	public static void draw2DArc(Graphics2D g, Rectangle2D ellipseBounds,
 			double startAngle, double extentAngle, Color borderColor,
@@ -1976,9 +1976,9 @@ public class Utils {
 			Color dazzel = CubeColor.getDazzelColor(cc.getColor1());
 			CubeColor ccr = new CubeColor(dazzel);
 			GradientPaint gp;
-			// ⼰ɫ仭߿һȦСʹýɫͻ
+			// 由外及里面颜色渐变画出边框，最后一圈小的使用渐变色填充突出炫
 			// setTransparent(g, transparent);
-			if (dazzelCount > 10) {// ֵ̫û㹻ɫԼ
+			if (dazzelCount > 10) {// 该数值不能太大，没有足够的颜色以及性能上
 				dazzelCount = 10;
 			}
 			for (int k = 0; k < dazzelCount; k++) {
@@ -2000,11 +2000,11 @@ public class Utils {
 					Utils.fill(g, tmpArc, transparent, tmp);
 				}
 			}
-		} else if (cc.color1 != null) {// ͸ɫ
+		} else if (cc.color1 != null) {// 如果不是透明色
 			if (Utils.setPaint(g, rect.x, rect.y, rect.width, rect.height, cc)) {
 				Utils.fillPaint(g, arc, transparent);
 			}
-		}// Ϊ͸ɫû
+		}// 否则为透明色，不用绘制
 		if (Utils.setStroke(g, borderColor, borderStyle, borderWeight)) {
 			g.draw(arc);
 		}
@@ -2012,13 +2012,13 @@ public class Utils {
 	}
 
 	/**
-	 * ոԼǰͼ豸Ļһ߶
-	 * drawLinedrawLineShade֮ҪֿΪͼʱҪȰӰ꣬Ȼܻߣܽ
-	 * @param g ͼ豸
-	 * @param x1 x
-	 * @param y1 y
-	 * @param x2 յx
-	 * @param y2 յy
+	 * 按照给定坐标以及当前图形设备的环境绘制一条线段
+	 * drawLine跟drawLineShade之所以要分开，是因为绘图时需要先把阴影画完，然后才能画线，不能交错画；
+	 * @param g 图形设备
+	 * @param x1 起点x坐标
+	 * @param y1 起点y坐标
+	 * @param x2 终点x坐标
+	 * @param y2 终点y坐标
 	 */
 	public static void drawLine(Graphics2D g, double x1, double y1, double x2,
 			double y2) {
@@ -2026,27 +2026,27 @@ public class Utils {
 	}
 	
 	/**
-	 * ոԼǰͼ豸Ļһͷ߶
-	 * @param g ͼ豸
-	 * @param x1 x
-	 * @param y1 y
-	 * @param x2 յx
-	 * @param y2 յy
-	 * @param arrow ͷλãȡֵֻΪ
-	 *  Consts.LINE_ARROW_NONE (ͨ߶)
-	 *  Consts.LINE_ARROW_L(㴦)
-	 *  Consts.LINE_ARROW  (յ㴦)
+	 * 按照给定坐标以及当前图形设备的环境绘制一条带箭头的线段
+	 * @param g 图形设备
+	 * @param x1 起点x坐标
+	 * @param y1 起点y坐标
+	 * @param x2 终点x坐标
+	 * @param y2 终点y坐标
+	 * @param arrow 箭头位置，取值只能为
+	 * 无 Consts.LINE_ARROW_NONE (即普通线段)
+	 * 左 Consts.LINE_ARROW_L(起点处)
+	 * 右 Consts.LINE_ARROW  (终点处)
 	 */
 	public static void drawLine(Graphics2D g, double x1, double y1, double x2,
 			double y2, int arrow) {
 		Line2D line = new Line2D.Double(x1, y1, x2, y2);
 		g.draw(line);
-//		ߵļͷʱֻ֧ͨҼͷ
+//		线的箭头暂时只支持普通的左右箭头
 		if(arrow==Consts.LINE_ARROW || arrow==Consts.LINE_ARROW_L){
-//			ȱʾ֮б
+//			弧度表示的两点之间的斜率
 			double radian = Math.atan2(y2-y1,x2-x1);
 			double x = x2, y = y2;
-			if(arrow==Consts.LINE_ARROW_L){//ͷʱҪx1
+			if(arrow==Consts.LINE_ARROW_L){//左箭头时，需要给定x1
 				x = x1;
 				y = y1;
 			}
@@ -2055,9 +2055,9 @@ public class Utils {
 	}
 
 	/**
-	 * ͼ豸ĵǰɫ
-	 * @param g ͼ豸
-	 * @param c ɫɫΪnullʱı䵱ǰɫ
+	 * 设置图形设备的当前画笔颜色
+	 * @param g 图形设备
+	 * @param c 画笔颜色，颜色为null时，不改变当前画笔颜色
 	 */
 	public static void setColor(Graphics2D g, Color c) {
 		if (c != null) {
@@ -2105,17 +2105,17 @@ public class Utils {
 			double radiusx, double radiusy) {
 		Shape pShape = null;
 		switch (shape) {
-		case Consts.PT_NONE: // 
+		case Consts.PT_NONE: // 无
 			break;
-		case Consts.PT_CIRCLE: // Բ
+		case Consts.PT_CIRCLE: // 圆
 			pShape = new Ellipse2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_SQUARE: // 
+		case Consts.PT_SQUARE: // 正方形
 			pShape = new Rectangle2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_TRIANGLE: // 
+		case Consts.PT_TRIANGLE: // 三角形
 			double[] xs_tr = new double[] {
 					x - radiusx * Math.cos(Math.toRadians(30)), x,
 					x + radiusx * Math.cos(Math.toRadians(30)) };
@@ -2123,38 +2123,38 @@ public class Utils {
 					y + radiusy / 2 };
 			pShape = newPolygon2DShape(xs_tr, ys_tr);
 			break;
-		case Consts.PT_RECTANGLE: // 
+		case Consts.PT_RECTANGLE: // 长方形
 			pShape = new Rectangle2D.Double(x - radiusx, y - radiusy * 7 / 10,
 					radiusx * 2, radiusy * 7 / 5);
 			break;
-		case Consts.PT_STAR: // 
+		case Consts.PT_STAR: // 星形
 			pShape = new Ellipse2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_DIAMOND: // 
+		case Consts.PT_DIAMOND: // 菱形
 			double[] xs_di,
 			ys_di;
 			xs_di = new double[] { x - radiusx, x, x + radiusx, x };
 			ys_di = new double[] { y, y - radiusy, y, y + radiusy };
 			pShape = newPolygon2DShape(xs_di, ys_di);
 			break;
-		case Consts.PT_CORSS: // 
+		case Consts.PT_CORSS: // 叉形
 			pShape = new Rectangle2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_PLUS: // Ӻ
+		case Consts.PT_PLUS: // 加号
 			pShape = new Rectangle2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_D_CIRCEL: // ˫Բ
+		case Consts.PT_D_CIRCEL: // 双圆
 			pShape = new Ellipse2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_D_SQUARE: // ˫
+		case Consts.PT_D_SQUARE: // 双正方形
 			pShape = new Rectangle2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_D_TRIANGLE: // ˫
+		case Consts.PT_D_TRIANGLE: // 双三角形
 			double delta = radiusx * Math.cos(Math.toRadians(30));
 			double[] xs_dtr1,
 			ys_dtr1;
@@ -2163,11 +2163,11 @@ public class Utils {
 					y + radiusy / 2 };
 			pShape = newPolygon2DShape(xs_dtr1, ys_dtr1);
 			break;
-		case Consts.PT_D_RECTANGLE: // ˫
+		case Consts.PT_D_RECTANGLE: // 双长方形
 			pShape = new Rectangle2D.Double(x - radiusx, y - radiusy * 7 / 10,
 					radiusx * 2, radiusy * 7 / 5);
 			break;
-		case Consts.PT_D_DIAMOND: // ˫
+		case Consts.PT_D_DIAMOND: // 双菱形
 			double[] xs_ddi2,
 			ys_ddi2;
 			xs_ddi2 = new double[] { x - radiusx, x, x + radiusx, x };
@@ -2175,15 +2175,15 @@ public class Utils {
 			pShape = newPolygon2DShape(xs_ddi2, ys_ddi2);
 
 			break;
-		case Consts.PT_CIRCLE_PLUS: // ԲڼӺ
+		case Consts.PT_CIRCLE_PLUS: // 圆内加号
 			pShape = new Ellipse2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_SQUARE_PLUS: // ڼӺ
+		case Consts.PT_SQUARE_PLUS: // 方内加号
 			pShape = new Rectangle2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_TRIANGLE_PLUS: // ڼӺ
+		case Consts.PT_TRIANGLE_PLUS: // 三角内加号
 			double[] xs_trp,
 			ys_trp;
 			xs_trp = new double[] { x - radiusx * Math.cos(Math.toRadians(30)),
@@ -2192,11 +2192,11 @@ public class Utils {
 					y + radiusy / 2 };
 			pShape = newPolygon2DShape(xs_trp, ys_trp);
 			break;
-		case Consts.PT_RECTANGLE_PLUS: // ڼӺ
+		case Consts.PT_RECTANGLE_PLUS: // 长方形内加号
 			pShape = new Rectangle2D.Double(x - radiusx, y - radiusy * 7 / 10,
 					radiusx * 2, radiusy * 7 / 5);
 			break;
-		case Consts.PT_DIAMOND_PLUS: // ڼӺ
+		case Consts.PT_DIAMOND_PLUS: // 菱内加号
 			double[] xs_dip,
 			ys_dip;
 			xs_dip = new double[] { x - radiusx, x, x + radiusx, x };
@@ -2208,37 +2208,37 @@ public class Utils {
 	}
 
 	/**
-	 * ֱϵһĲ1(ͼԪ֮ԷֲԷֹɫǱǰ)
-	 * @param g ͼ豸
-	 * @param point 
-	 * @param shape ״ȡֵοConsts.PT_XXX
-	 * @param radiusx xϵҵ뾶صλ׳Ϊϵҵ뾶
-	 * @param radiusy yϵҵ뾶صλ
-	 * @param rw xyϵҵ뾶Ϊ0ʱʹöԳƵİ뾶صλ׳Ϊҵ޹صذ뾶
-	 * @param style ߿
-	 * @param weight ߿ֶ 
-	 * @param transparent ͸
-	 * @return ״(ڼ㳬)
+	 * 绘制直角坐标系下一个点的步骤1(图元之所以分步骤绘制用以防止背景色覆盖别的前景文字)
+	 * @param g 图形设备
+	 * @param point 点坐标
+	 * @param shape 点的形状，取值参考Consts.PT_XXX
+	 * @param radiusx x轴上的业务半径计算过后的像素单位，俗称为轴上的业务半径
+	 * @param radiusy y轴上的业务半径计算过后的像素单位
+	 * @param rw x，y轴上的业务半径都为0时，使用对称的半径像素单位，俗称为业务无关的像素半径
+	 * @param style 边框风格
+	 * @param weight 边框粗度 
+	 * @param transparent 透明度
+	 * @return 点的形状对象(用于计算超链接)
 	 */
 	public static Shape drawCartesianPoint1(Graphics2D g, Point2D point,
 			int shape, double radiusx, double radiusy, double rw, int style,
 			float weight, float transparent) {
 		double x = point.getX();
 		double y = point.getY();
-		// ûֵָҵ뾶ʱʹöԳƵذ뾶rw radiusWeight:뾶ȣҵ뾶ʱʹõĶԳư뾶
+		// 没有指定坐标值业务半径时，使用对称的像素半径rw radiusWeight:半径厚度，无业务半径时使用的对称半径
 		if (radiusx == 0 && radiusy == 0) {
 			radiusx = rw;
 			radiusy = rw;
 		}
 		if (radiusx + radiusy == 0)
-			return null;// ҵ뾶ذ뾶Ϊʱ
+			return null;// 无论业务半径还是像素半径都为零时，不画点
 		Point2D p1, p2;
-		if (radiusx == 0) {// xΪ0ʱЧֱ
+		if (radiusx == 0) {// x坐标为0时，点型无效，画纵向直线
 			p1 = new Point2D.Double(x, y - radiusy);
 			p2 = new Point2D.Double(x, y + radiusy);
 			return drawLine1(g, p1, p2, style, weight);
 		}
-		if (radiusy == 0) {// ֱ
+		if (radiusy == 0) {// 画横向直线
 			p1 = new Point2D.Double(x - radiusx, y);
 			p2 = new Point2D.Double(x + radiusx, y);
 			return drawLine1(g, p1, p2, style, weight);
@@ -2255,18 +2255,18 @@ public class Utils {
 		pShape = getCPoint1ShapeArea(shape, x, y, radiusx, radiusy);
 		if (pShape != null) {
 			fillRadioGradientShape(g, pShape, Color.darkGray, Color.white,
-					transparent / 2);// Ӱ͸ȼ
+					transparent / 2);// 阴影的透明度减半
 		}
 		return linkShape;
 	}
 
 	/**
-	 * ȡοյ״
+	 * 获取镂空的形状
 	 * 
 	 * @param outer
-	 *            ,״
+	 *            ,大形状
 	 * @param inner
-	 *            ,οյС״
+	 *            ,镂空掉的小形状
 	 * @return
 	 */
 	private static Shape getLouKongShape(Shape outer, Shape inner) {
@@ -2277,42 +2277,42 @@ public class Utils {
 	}
 
 	/**
-	 * ֱϵһĲ2
-	 * @param g ͼ豸
-	 * @param point 
-	 * @param shape ״ȡֵοConsts.PT_XXX
-	 * @param radiusx xϵҵ뾶صλ׳Ϊϵҵ뾶
-	 * @param radiusy yϵҵ뾶صλ
-	 * @param rw xyϵҵ뾶Ϊ0ʱʹöԳƵİ뾶صλ׳Ϊҵ޹صذ뾶
-	 * @param style ߿
-	 * @param weight ߿ֶ 
-	 * @param ccr ɫ 
-	 * @param foreColor ǰɫ߿ɫ 
-	 * @param transparent ͸
-	 * @return ״(ڼ㳬)
+	 * 绘制直角坐标系下一个点的步骤2
+	 * @param g 图形设备
+	 * @param point 点坐标
+	 * @param shape 点的形状，取值参考Consts.PT_XXX
+	 * @param radiusx x轴上的业务半径计算过后的像素单位，俗称为轴上的业务半径
+	 * @param radiusy y轴上的业务半径计算过后的像素单位
+	 * @param rw x，y轴上的业务半径都为0时，使用对称的半径像素单位，俗称为业务无关的像素半径
+	 * @param style 边框风格
+	 * @param weight 边框粗度 
+	 * @param ccr 填充颜色 
+	 * @param foreColor 前景色，边框颜色 
+	 * @param transparent 透明度
+	 * @return 点的形状对象(用于计算超链接)
 	 */
 	public static Shape drawCartesianPoint2(Graphics2D g, Point2D point,
 			int shape, double radiusx, double radiusy, double rw, int style,
 			float weight, ChartColor ccr, Color foreColor, float transparent) {
 		double x = point.getX();
 		double y = point.getY();
-		if (rw == 0) {// rwΪ0ʾߴְ뾶
+		if (rw == 0) {// rw为0表示采用线粗半径画点
 			rw = weight / 2 + 1;
 			if (rw < 4)
 				rw = 3;
 		}
 
-		// ûֵָҵ뾶ʱʹöԳƵذ뾶radius
+		// 没有指定坐标值业务半径时，使用对称的像素半径radius
 		if (radiusx == 0 && radiusy == 0) {
 			radiusx = rw;
 			radiusy = rw;
 		}
-		if (radiusx == radiusy) {// Գư뾶ʱʹߴԣߴʹ1
+		if (radiusx == radiusy) {// 对称半径时，不使用线粗属性，真正的线粗使用1
 			weight = 1;
 		}
 
 		Point2D p1, p2;
-		if (radiusx == 0) {// xΪ0ʱЧֱ
+		if (radiusx == 0) {// x坐标为0时，点型无效，画纵向直线
 			p1 = new Point2D.Double(x, y - radiusy);
 			p2 = new Point2D.Double(x, y + radiusy);
 			drawLine2(g, p1, p2, ccr.color1, style, weight);
@@ -2328,23 +2328,23 @@ public class Utils {
 		Shape fillShape = null, outerShape, innerShape;
 		ArrayList<Shape> drawShapes = new ArrayList<Shape>();
 		switch (shape) {
-		case Consts.PT_NONE: // 
+		case Consts.PT_NONE: // 无
 			break;
-		case Consts.PT_CIRCLE: // Բ
+		case Consts.PT_CIRCLE: // 圆
 			fillShape = new Ellipse2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_DOT: // ʵĵ
+		case Consts.PT_DOT: // 实心点
 			fillShape = new Ellipse2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			g.setColor(foreColor);
 			fillPaint(g, fillShape, transparent);
 			return fillShape;
-		case Consts.PT_SQUARE: // 
+		case Consts.PT_SQUARE: // 正方形
 			fillShape = new Rectangle2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			break;
-		case Consts.PT_TRIANGLE: // 
+		case Consts.PT_TRIANGLE: // 三角形
 			double[] xs_tr,
 			ys_tr;
 			xs_tr = new double[] { x - radiusx * Math.cos(Math.toRadians(30)),
@@ -2353,11 +2353,11 @@ public class Utils {
 					y + radiusy / 2 };
 			fillShape = newPolygon2DShape(xs_tr, ys_tr);
 			break;
-		case Consts.PT_RECTANGLE: // 
+		case Consts.PT_RECTANGLE: // 长方形
 			fillShape = new Rectangle2D.Double(x - radiusx, y - radiusy * 7
 					/ 10, radiusx * 2, radiusy * 7 / 5);
 			break;
-		case Consts.PT_STAR: // 
+		case Consts.PT_STAR: // 星形
 			fillShape = new Ellipse2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			if (setStroke(g, foreColor, style, weight)) {
@@ -2371,14 +2371,14 @@ public class Utils {
 						+ deltax, y - deltay));
 			}
 			break;
-		case Consts.PT_DIAMOND: // 
+		case Consts.PT_DIAMOND: // 菱形
 			double[] xs_di,
 			ys_di;
 			xs_di = new double[] { x - radiusx, x, x + radiusx, x };
 			ys_di = new double[] { y, y - radiusy, y, y + radiusy };
 			fillShape = newPolygon2DShape(xs_di, ys_di);
 			break;
-		case Consts.PT_CORSS: // 
+		case Consts.PT_CORSS: // 叉形
 			fillShape = new Rectangle2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			if (setStroke(g, foreColor, style, weight)) {
@@ -2390,7 +2390,7 @@ public class Utils {
 						+ deltax, y - deltay));
 			}
 			break;
-		case Consts.PT_PLUS: // Ӻ
+		case Consts.PT_PLUS: // 加号
 			fillShape = new Rectangle2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			if (setStroke(g, foreColor, style, weight)) {
@@ -2400,21 +2400,21 @@ public class Utils {
 						.add(new Line2D.Double(x, y + radiusy, x, y - radiusy));
 			}
 			break;
-		case Consts.PT_D_CIRCEL: // ˫Բ
+		case Consts.PT_D_CIRCEL: // 双圆
 			outerShape = new Ellipse2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			innerShape = new Ellipse2D.Double(x - radiusx / 2, y - radiusy / 2,
 					radiusx, radiusy);
 			fillShape = getLouKongShape(outerShape, innerShape);
 			break;
-		case Consts.PT_D_SQUARE: // ˫
+		case Consts.PT_D_SQUARE: // 双正方形
 			outerShape = new Rectangle2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			innerShape = new Rectangle2D.Double(x - radiusx / 2, y - radiusy
 					/ 2, radiusx, radiusy);
 			fillShape = getLouKongShape(outerShape, innerShape);
 			break;
-		case Consts.PT_D_TRIANGLE: // ˫
+		case Consts.PT_D_TRIANGLE: // 双三角形
 			double delta = radiusx * Math.cos(Math.toRadians(30));
 			double[] xs_dtr1,
 			ys_dtr1;
@@ -2431,14 +2431,14 @@ public class Utils {
 			innerShape = newPolygon2DShape(xs_dtr2, ys_dtr2);
 			fillShape = getLouKongShape(outerShape, innerShape);
 			break;
-		case Consts.PT_D_RECTANGLE: // ˫
+		case Consts.PT_D_RECTANGLE: // 双长方形
 			outerShape = new Rectangle2D.Double(x - radiusx, y - radiusy * 7
 					/ 10, radiusx * 2, radiusy * 7 / 5);
 			innerShape = new Rectangle2D.Double(x - radiusx / 2, y - radiusy
 					* 7 / 20, radiusx, radiusy * 7 / 10);
 			fillShape = getLouKongShape(outerShape, innerShape);
 			break;
-		case Consts.PT_D_DIAMOND: // ˫
+		case Consts.PT_D_DIAMOND: // 双菱形
 			double[] xs_ddi2,
 			ys_ddi2;
 			xs_ddi2 = new double[] { x - radiusx, x, x + radiusx, x };
@@ -2449,7 +2449,7 @@ public class Utils {
 			innerShape = newPolygon2DShape(xs_ddi1, ys_ddi1);
 			fillShape = getLouKongShape(outerShape, innerShape);
 			break;
-		case Consts.PT_CIRCLE_PLUS: // ԲڼӺ
+		case Consts.PT_CIRCLE_PLUS: // 圆内加号
 			fillShape = new Ellipse2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			if (setStroke(g, foreColor, style, weight)) {
@@ -2460,7 +2460,7 @@ public class Utils {
 						.add(new Line2D.Double(x - radiusx, y, x + radiusx, y));
 			}
 			break;
-		case Consts.PT_SQUARE_PLUS: // ڼӺ
+		case Consts.PT_SQUARE_PLUS: // 方内加号
 			fillShape = new Rectangle2D.Double(x - radiusx, y - radiusy,
 					radiusx * 2, radiusy * 2);
 			if (setStroke(g, foreColor, style, weight)) {
@@ -2471,7 +2471,7 @@ public class Utils {
 						.add(new Line2D.Double(x - radiusx, y, x + radiusx, y));
 			}
 			break;
-		case Consts.PT_TRIANGLE_PLUS: // ڼӺ
+		case Consts.PT_TRIANGLE_PLUS: // 三角内加号
 			double[] xs_trp,
 			ys_trp;
 			xs_trp = new double[] { x - radiusx * Math.cos(Math.toRadians(30)),
@@ -2488,7 +2488,7 @@ public class Utils {
 						* Math.tan(Math.toRadians(30)), y));
 			}
 			break;
-		case Consts.PT_RECTANGLE_PLUS: // ڼӺ
+		case Consts.PT_RECTANGLE_PLUS: // 长方形内加号
 			fillShape = new Rectangle2D.Double(x - radiusx, y - radiusy * 7
 					/ 10, radiusx * 2, radiusy * 7 / 5);
 			if (setStroke(g, foreColor, style, weight)) {
@@ -2499,7 +2499,7 @@ public class Utils {
 						.add(new Line2D.Double(x - radiusx, y, x + radiusx, y));
 			}
 			break;
-		case Consts.PT_DIAMOND_PLUS: // ڼӺ
+		case Consts.PT_DIAMOND_PLUS: // 菱内加号
 			double[] xs_dip,
 			ys_dip;
 			xs_dip = new double[] { x - radiusx, x, x + radiusx, x };
@@ -2540,10 +2540,10 @@ public class Utils {
 		Point2D polarDot, p1, p2;
 
 		switch (shape) {
-		case Consts.PT_NONE: // 
+		case Consts.PT_NONE: // 无
 			break;
-		case Consts.PT_RECTANGLE: // ,£Σͬ
-		case Consts.PT_SQUARE: // ,ݱΪһλ
+		case Consts.PT_RECTANGLE: // 长方形,极坐标下，长方形，正方形同样处理
+		case Consts.PT_SQUARE: // 正方形,极坐标下演变为一段环
 			bound = pc.getEllipseBounds(r + radiusR);
 			arc = new Arc2D.Double(bound.getX() + shadowShift, bound.getY()
 					+ shadowShift, bound.getWidth(), bound.getHeight(), a
@@ -2553,13 +2553,13 @@ public class Utils {
 				bound = pc.getEllipseBounds(r - radiusR);
 				arc = new Arc2D.Double(bound.getX() + shadowShift, bound.getY()
 						+ shadowShift, bound.getWidth(), bound.getHeight(), a
-						- radiusA - 5, radiusA * 2 + 10, Arc2D.PIE);// Сζ10ȣܼɾ
+						- radiusA - 5, radiusA * 2 + 10, Arc2D.PIE);// 小扇形多10度，扇形误差后仍能减干净
 				java.awt.geom.Area sArea = new java.awt.geom.Area(arc);
 				bigArea.subtract(sArea);
-			}// else Сڵڰ뾶ʱֱӻ
+			}// else 极轴坐标小于等于半径时，直接画扇形
 			pShape = bigArea;
 			break;
-		case Consts.PT_DIAMOND: // ΣʱΪеı
+		case Consts.PT_DIAMOND: // 菱形，此时的菱形为环中点的变形菱形
 			double[] xs_di,
 			ys_di;
 			xs_di = new double[4];
@@ -2586,21 +2586,21 @@ public class Utils {
 
 			pShape = newPolygon2DShape(xs_di, ys_di);
 			break;
-		case Consts.PT_CIRCLE: // Բ
-		case Consts.PT_TRIANGLE: // 
-		case Consts.PT_STAR: // 
-		case Consts.PT_CORSS: // 
-		case Consts.PT_PLUS: // Ӻ
-		case Consts.PT_D_CIRCEL: // ˫Բ
-		case Consts.PT_D_SQUARE: // ˫
-		case Consts.PT_D_TRIANGLE: // ˫
-		case Consts.PT_D_RECTANGLE: // ˫
-		case Consts.PT_D_DIAMOND: // ˫
-		case Consts.PT_CIRCLE_PLUS: // ԲڼӺ
-		case Consts.PT_SQUARE_PLUS: // ڼӺ
-		case Consts.PT_TRIANGLE_PLUS: // ڼӺ
-		case Consts.PT_RECTANGLE_PLUS: // ڼӺ
-		case Consts.PT_DIAMOND_PLUS: // ڼӺ
+		case Consts.PT_CIRCLE: // 圆
+		case Consts.PT_TRIANGLE: // 三角形
+		case Consts.PT_STAR: // 星形
+		case Consts.PT_CORSS: // 叉形
+		case Consts.PT_PLUS: // 加号
+		case Consts.PT_D_CIRCEL: // 双圆
+		case Consts.PT_D_SQUARE: // 双正方形
+		case Consts.PT_D_TRIANGLE: // 双三角形
+		case Consts.PT_D_RECTANGLE: // 双长方形
+		case Consts.PT_D_DIAMOND: // 双菱形
+		case Consts.PT_CIRCLE_PLUS: // 圆内加号
+		case Consts.PT_SQUARE_PLUS: // 方内加号
+		case Consts.PT_TRIANGLE_PLUS: // 三角内加号
+		case Consts.PT_RECTANGLE_PLUS: // 长方形内加号
+		case Consts.PT_DIAMOND_PLUS: // 菱内加号
 			throw new RuntimeException("Unsupportted dot shape:" + shape
 					+ " in polar coordinate system.");
 		}
@@ -2608,19 +2608,19 @@ public class Utils {
 	}
 
 	/**
-	 * ƼϵһĲ1
-	 * @param g ͼ豸
-	 * @param point ()
-	 * @param shape ״ȡֵοConsts.PT_XXX
-	 * @param radiusR ϵҵ뾶صλ׳Ϊϵҵ뾶
-	 * @param radiusA ϵҵ뾶
-	 * @param rw ûֵָҵ뾶ʱʹöԳƵذ뾶rwҵ뾶ʱʹõĶԳư뾶
-	 * 			  ҵ뾶ʱֱͬϵ
-	 * @param style ߿
-	 * @param weight ߿ֶ 
-	 * @param pc ϵ 
-	 * @param transparent ͸
-	 * @return ״(ڼ㳬)
+	 * 绘制极坐标系下一个点的步骤1
+	 * @param g 图形设备
+	 * @param point 点坐标(极坐标)
+	 * @param shape 点的形状，取值参考Consts.PT_XXX
+	 * @param radiusR 极轴上的业务半径计算过后的像素单位，俗称为轴上的业务半径
+	 * @param radiusA 角轴上的业务半径
+	 * @param rw 没有指定坐标值业务半径时，使用对称的像素半径rw，无业务半径时使用的对称半径
+	 * 			  极坐标下无业务半径时，点绘制同直角坐标系。
+	 * @param style 边框风格
+	 * @param weight 边框粗度 
+	 * @param pc 极坐标系 
+	 * @param transparent 透明度
+	 * @return 点的形状对象(用于计算超链接)
 	 */
 	public static Shape drawPolarPoint1(Graphics2D g, Point2D point, int shape,
 			double radiusR, double radiusA, double rw, int style, float weight,
@@ -2639,7 +2639,7 @@ public class Utils {
 		if (shadowShift < SHADE_SPAN) {
 			shadowShift = SHADE_SPAN;
 		}
-		if (radiusR == 0) {// radiusRΪ0ʱЧΪһλ
+		if (radiusR == 0) {// radiusR为0时，点型无效，为一段弧线
 			Color dark = getShadeColor(1);
 			bound = pc.getEllipseBounds(r);
 			arc = new Arc2D.Double(bound.getX() + shadowShift, bound.getY()
@@ -2661,7 +2661,7 @@ public class Utils {
 			arcSmallArea = new java.awt.geom.Area(arcSmall);
 			arcArea.subtract(arcSmallArea);
 			return arcArea;
-		} else if (radiusA == 0) {// radiusAΪ0ʱΪһΰ뾶ֱ
+		} else if (radiusA == 0) {// radiusA为0时，为一段半径直线
 			polarDot = new Point2D.Double(r + radiusR, a);
 			p1 = pc.getScreenPoint(polarDot);
 			polarDot = new Point2D.Double(r - radiusR, a);
@@ -2682,27 +2682,27 @@ public class Utils {
 	}
 
 	/**
-	 * ƼϵһĲ2
-	 * @param g ͼ豸
-	 * @param point ()
-	 * @param shape ״ȡֵοConsts.PT_XXX
-	 * @param radiusR ϵҵ뾶صλ׳Ϊϵҵ뾶
-	 * @param radiusA ϵҵ뾶
-	 * @param rw ûֵָҵ뾶ʱʹöԳƵذ뾶rwҵ뾶ʱʹõĶԳư뾶
-	 * 			  ҵ뾶ʱֱͬϵ
-	 * @param style ߿
-	 * @param weight ߿ֶ 
-	 * @param pc ϵ 
-	 * @param ccr ɫ 
-	 * @param foreColor ߿ɫ 
-	 * @param transparent ͸
-	 * @return ״(ڼ㳬)
+	 * 绘制极坐标系下一个点的步骤2
+	 * @param g 图形设备
+	 * @param point 点坐标(极坐标)
+	 * @param shape 点的形状，取值参考Consts.PT_XXX
+	 * @param radiusR 极轴上的业务半径计算过后的像素单位，俗称为轴上的业务半径
+	 * @param radiusA 角轴上的业务半径
+	 * @param rw 没有指定坐标值业务半径时，使用对称的像素半径rw，无业务半径时使用的对称半径
+	 * 			  极坐标下无业务半径时，点绘制同直角坐标系。
+	 * @param style 边框风格
+	 * @param weight 边框粗度 
+	 * @param pc 极坐标系 
+	 * @param ccr 填充颜色 
+	 * @param foreColor 边框颜色 
+	 * @param transparent 透明度
+	 * @return 点的形状对象(用于计算超链接)
 	 */
 	public static void drawPolarPoint2(Graphics2D g, Point2D point, int shape,
 			double radiusR, double radiusA, double rw, int style, float weight,
 			PolarCoor pc, ChartColor ccr, Color foreColor, float transparent) {
-		// ûֵָҵ뾶ʱʹöԳƵذ뾶rw radiusWeight:뾶ȣҵ뾶ʱʹõĶԳư뾶
-		// ҵ뾶ʱֱͬϵ
+		// 没有指定坐标值业务半径时，使用对称的像素半径rw radiusWeight:半径厚度，无业务半径时使用的对称半径
+		// 极坐标下无业务半径时，点绘制同直角坐标系。
 		if (radiusR == 0 && radiusA == 0) {
 			point = pc.getScreenPoint(point);
 			drawCartesianPoint2(g, point, shape, 0, 0, rw, style, weight, ccr,
@@ -2714,7 +2714,7 @@ public class Utils {
 		Rectangle2D bound;
 		Point2D polarDot, p1, p2;
 		Arc2D arc;
-		if (radiusR == 0) {// radiusRΪ0ʱЧΪһλ
+		if (radiusR == 0) {// radiusR为0时，点型无效，为一段弧线
 			bound = pc.getEllipseBounds(r);
 			arc = new Arc2D.Double(bound.getX(), bound.getY(),
 					bound.getWidth(), bound.getHeight(), a - radiusA,
@@ -2723,7 +2723,7 @@ public class Utils {
 				g.draw(arc);
 			}
 			return;
-		} else if (radiusA == 0) {// radiusAΪ0ʱΪһΰ뾶ֱ
+		} else if (radiusA == 0) {// radiusA为0时，为一段半径直线
 			polarDot = new Point2D.Double(r + radiusR, a);
 			p1 = pc.getScreenPoint(polarDot);
 			polarDot = new Point2D.Double(r - radiusR, a);
@@ -2734,16 +2734,16 @@ public class Utils {
 
 		Shape pShape = null;
 		switch (shape) {
-		case Consts.PT_NONE: // 
+		case Consts.PT_NONE: // 无
 			break;
-		case Consts.PT_RECTANGLE: // ,£Σͬ
-		case Consts.PT_SQUARE: // ,ݱΪһλ
+		case Consts.PT_RECTANGLE: // 长方形,极坐标下，长方形，正方形同样处理
+		case Consts.PT_SQUARE: // 正方形,极坐标下演变为一段环
 			Rectangle2D bigBounds = pc.getEllipseBounds(r + radiusR);
 			Rectangle2D smallBounds = pc.getEllipseBounds(r - radiusR);
 			draw2DRing(g, bigBounds, smallBounds, a - radiusA, radiusA * 2,
 					foreColor, style, weight, transparent, ccr);
 			return;
-		case Consts.PT_DIAMOND: // ΣʱΪеı
+		case Consts.PT_DIAMOND: // 菱形，此时的菱形为环中点的变形菱形
 			double[] xs_di,
 			ys_di;
 			xs_di = new double[4];
@@ -2770,21 +2770,21 @@ public class Utils {
 
 			pShape = newPolygon2DShape(xs_di, ys_di);
 			break;
-		case Consts.PT_CIRCLE: // Բ
-		case Consts.PT_TRIANGLE: // 
-		case Consts.PT_STAR: // 
-		case Consts.PT_CORSS: // 
-		case Consts.PT_PLUS: // Ӻ
-		case Consts.PT_D_CIRCEL: // ˫Բ
-		case Consts.PT_D_SQUARE: // ˫
-		case Consts.PT_D_TRIANGLE: // ˫
-		case Consts.PT_D_RECTANGLE: // ˫
-		case Consts.PT_D_DIAMOND: // ˫
-		case Consts.PT_CIRCLE_PLUS: // ԲڼӺ
-		case Consts.PT_SQUARE_PLUS: // ڼӺ
-		case Consts.PT_TRIANGLE_PLUS: // ڼӺ
-		case Consts.PT_RECTANGLE_PLUS: // ڼӺ
-		case Consts.PT_DIAMOND_PLUS: // ڼӺ
+		case Consts.PT_CIRCLE: // 圆
+		case Consts.PT_TRIANGLE: // 三角形
+		case Consts.PT_STAR: // 星形
+		case Consts.PT_CORSS: // 叉形
+		case Consts.PT_PLUS: // 加号
+		case Consts.PT_D_CIRCEL: // 双圆
+		case Consts.PT_D_SQUARE: // 双正方形
+		case Consts.PT_D_TRIANGLE: // 双三角形
+		case Consts.PT_D_RECTANGLE: // 双长方形
+		case Consts.PT_D_DIAMOND: // 双菱形
+		case Consts.PT_CIRCLE_PLUS: // 圆内加号
+		case Consts.PT_SQUARE_PLUS: // 方内加号
+		case Consts.PT_TRIANGLE_PLUS: // 三角内加号
+		case Consts.PT_RECTANGLE_PLUS: // 长方形内加号
+		case Consts.PT_DIAMOND_PLUS: // 菱内加号
 			throw new RQException("Unsupportted dot shape:" + shape
 					+ " in polar coordinate system.");
 		}
@@ -2800,8 +2800,8 @@ public class Utils {
 	}
 
 	/**
-	 * ͼԪĲParaʱҲҪ滷
-	 * @param chartElement ͼԪ
+	 * 图元的参数如果是Para类型时，也需要设置引擎环境
+	 * @param chartElement 图元
 	 */
 	public static void setParamsEngine(IElement chartElement) {
 		try {
@@ -2827,26 +2827,26 @@ public class Utils {
 	};
 
 	/**
-	 * ̰߳ȫµľֵ̬GIFʽɫ̫࣬ʹıĹ⻬Ч
-	 * ô˿ͼεĻģʽ
+	 * 线程安全下的静态值，GIF格式颜色不能太多，不能使用文本的光滑效果
+	 * 用此开关来控制图形的绘制模式
 	 */
 	public static void setIsGif(boolean isGif) {
 		tlIsGif.set( isGif );
 	}
 
 	/**
-	 * Ƿ̰߳ȫµGIFʽ
+	 * 是否线程安全下的GIF格式
 	 */
 	public static boolean isGif() {
 		return (tlIsGif.get()).booleanValue();
 	}
 
-	// Ϊ˱֤ԲԲԼֵĲʹþݵ״̬ʹ¿ֺֻԲ
-	// gifʽʱʹÿԣɫࡣ
-//	Ŀǰ÷ǻͼǰͽƽ򿪣Ȼڻıʱȹصıٴ򿪣֤ͼƽ
+	// 为了保证圆弧的圆滑，以及文字的不使用锯齿的清晰状态，使用如下开关来区分画文字和圆弧的条件；
+	// 但是gif格式时，不能使用抗锯齿属性，会造成颜色过多。
+//	目前的用法是绘图前就将平滑打开，然后在绘制文本时，先关掉，画完文本后，再打开，保证图形平滑，文字清晰。
 	public static void setGraphAntiAliasingOn(Graphics2D g) {
-		// gifʽʱܴ򿪾ݿأԷɫࣻ
-		if (isGif()) {//gifʽʱǹرգ˴ǿйرգԷͬ߳бĸʽѾΪon
+		// gif格式时不能打开锯齿开关，以防颜色过多；
+		if (isGif()) {//gif格式时，总是关闭，此处强行关闭，以防同线程中别的格式已经设为on
 			setGraphAntiAliasingOff(g);
 			return;
 		}
@@ -2863,9 +2863,9 @@ public class Utils {
 	}
 
 	/**
-	 * seqɫתΪӦ ʵ
-	 * @param seq 
-	 * @return ChartColorɫʵתʧ(ĸʽ)ʱnull
+	 * 将序列seq对象描述的填充颜色转换为对应的 类实例
+	 * @param seq 属性序列
+	 * @return ChartColor，填充颜色实例，转换失败(比如错误的格式)时返回null
 	 */
 	public static ChartColor sequenceToChartColor(Sequence seq) {
 		if (seq.length() < 1)
@@ -2881,11 +2881,11 @@ public class Utils {
 	}
 
 	/**
-	 * ı߼ݣö (ΪӢĶ) ָϵ
-	 * ÷ȡеķֵ
-	 * (ֵΪ   "," ʱطֵ  "")
-	 * @param data ʽ߼
-	 * @return ֵ
+	 * 文本串描述的逻辑数据，采用逗号 (必须为英文逗号) 分隔分类和系列
+	 * 该方法获取其中的分类值
+	 * (比如值为   "张三,语文" 时，返回分类值  "张三")
+	 * @param data 带格式的逻辑数据
+	 * @return 分类值
 	 */
 	public static Object parseCategory(Object data) {
 		if (data == null) {
@@ -2903,11 +2903,11 @@ public class Utils {
 	}
 
 	/**
-	 * ı߼ݣö (ΪӢĶ) ָϵ
-	 * ÷ȡеϵֵûжŷָݣʾûϵ
-	 * (ֵΪ   "," ʱϵֵ  "")
-	 * @param data ʽ߼
-	 * @return ϵֵ
+	 * 文本串描述的逻辑数据，采用逗号 (必须为英文逗号) 分隔分类和系列
+	 * 该方法获取其中的系列值，如果没有逗号分隔的数据，则表示没有系列
+	 * (比如值为   "张三,语文" 时，返回系列值  "语文")
+	 * @param data 带格式的逻辑数据
+	 * @return 系列值
 	 */
 	public static Object parseSeries(Object data) {
 		if (data == null) {
@@ -2933,11 +2933,11 @@ public class Utils {
 	}
 
 	/**
-	 * ҳǰķcatNameϵserNameöenumDataе
-	 * @param enumData ʽ߼
-	 * @param catName 
-	 * @param serName ϵ
-	 * @return int (1ʼ)
+	 * 找出当前的分类catName和系列serName在枚举enumData序列中的索引序号
+	 * @param enumData 带格式的逻辑数据
+	 * @param catName 分类名称
+	 * @param serName 系列名称
+	 * @return int 序号(从1开始)
 	 */
 	public static int indexOf(Sequence enumData, String catName, String serName) {
 		if (catName == null)
@@ -2950,11 +2950,11 @@ public class Utils {
 	}
 
 	/**
-	 * ͳƷcatNameĻֵ
-	 * @param catName 
-	 * @param enumData öֵ
-	 * @param numData ֵ
-	 * @return ֵ
+	 * 统计分类catName的汇总值
+	 * @param catName 分类名称
+	 * @param enumData 枚举值的数据序列
+	 * @param numData 数值的数据序列
+	 * @return 汇总值
 	 */
 	public static double sumCategory(String catName, Sequence enumData,
 			Sequence numData) {
@@ -2965,7 +2965,7 @@ public class Utils {
 			Object cat = parseCategory(enumObj);
 			if (catName.equals(cat)) {
 				double d = ((Number) numData.get(i)).doubleValue();
-				// ۻֵ
+				// 累积值不处理负数
 				if (d > 0) {
 					sum += d;
 				}
@@ -2975,22 +2975,22 @@ public class Utils {
 	}
 
 	/**
-	 * ָԲĶ
-	 * @param g ͼ豸
-	 * @param topOval Բ
-	 * @param bc ߿ɫ
-	 * @param bs ߿
-	 * @param bw ߿ֶ
-	 * @param transparent ͸
-	 * @param chartColor ɫ
-	 * @param isVertical ǷԲ
+	 * 按照指定参数绘制圆柱体的顶面
+	 * @param g 图形设备
+	 * @param topOval 顶面圆
+	 * @param bc 边框颜色
+	 * @param bs 边框风格
+	 * @param bw 边框粗度
+	 * @param transparent 透明度
+	 * @param chartColor 填充颜色
+	 * @param isVertical 是否竖向圆柱
 	 */
 	public static void drawCylinderTop(Graphics2D g, Arc2D.Double topOval,
 			Color bc, int bs, float bw, float transparent,
 			ChartColor chartColor, boolean isVertical) {
 		Rectangle bound = topOval.getBounds();
 		CubeColor ccr = new CubeColor(chartColor.getColor1());
-		// ԲֻҪɫʹЧ
+		// 顶面圆只要渐变色就使用炫效果
 		if (chartColor.isDazzle()) {
 			if (ccr.getT1() != null && ccr.getT2() != null) {
 				GradientPaint gp;
@@ -3026,15 +3026,15 @@ public class Utils {
 	}
 
 	/**
-	 * ָԲ
-	 * @param g ͼ豸
-	 * @param front 
-	 * @param bc ߿ɫ
-	 * @param bs ߿
-	 * @param bw ߿ֶ
-	 * @param transparent ͸
-	 * @param chartColor ɫ
-	 * @param isVertical ǷԲ
+	 * 按照指定参数绘制圆柱体的正面
+	 * @param g 图形设备
+	 * @param front 正面区域
+	 * @param bc 边框颜色
+	 * @param bs 边框风格
+	 * @param bw 边框粗度
+	 * @param transparent 透明度
+	 * @param chartColor 填充颜色
+	 * @param isVertical 是否竖向圆柱
 	 */
 	public static void drawCylinderFront(Graphics2D g,
 			java.awt.geom.Area front, Color bc, int bs, float bw,
@@ -3044,17 +3044,17 @@ public class Utils {
 	}
 
 	/**
-	 * ָԲ
-	 * @param g ͼ豸
-	 * @param front 
-	 * @param bc ߿ɫ
-	 * @param bs ߿
-	 * @param bw ߿ֶ
-	 * @param transparent ͸
-	 * @param chartColor ɫ
-	 * @param isVertical ǷԲ
-	 * @param shinningRange Ч
-	 * @param isCurve Ƿ
+	 * 按照指定参数绘制圆柱体的正面
+	 * @param g 图形设备
+	 * @param front 正面区域
+	 * @param bc 边框颜色
+	 * @param bs 边框风格
+	 * @param bw 边框粗度
+	 * @param transparent 透明度
+	 * @param chartColor 填充颜色
+	 * @param isVertical 是否竖向圆柱
+	 * @param shinningRange 炫效果区域
+	 * @param isCurve 是否曲面
 	 */
 	public static void drawCylinderFront(Graphics2D g,
 			java.awt.geom.Area front, Color bc, int bs, float bw,
@@ -3065,7 +3065,7 @@ public class Utils {
 		Rectangle bound = front.getBounds();
 		GradientPaint paint;
 		Color c1, c2;
-		// Ч
+		// 炫效果
 		if (chartColor.isDazzle()) {
 			Rectangle2D r2d = shinningRange;
 			if (r2d == null) {
@@ -3119,7 +3119,7 @@ public class Utils {
 				d = r2d.getWidth() * 2 / 3;
 				tmp = new java.awt.geom.Area(new Rectangle2D.Double(r2d.getX()
 						+ d - 1, r2d.getY(), r2d.getBounds().width - d + 1,
-						r2d.getHeight()));// ұһ
+						r2d.getHeight()));// 由于四舍五入的误差，让右边往左多包含一个像素
 			} else {
 				d = r2d.getHeight() * 2 / 3;
 				tmp = new java.awt.geom.Area(new Rectangle2D.Double(r2d.getX(),
@@ -3162,23 +3162,23 @@ public class Utils {
 			}
 		}
 
-		// ӵı߿
+		// 柱子的边框
 		if (Utils.setStroke(g, bc, bs, bw)) {
 			g.draw(front);
 		}
 	}
 
 	/**
-	 * Ƽϵµı
-	 * @param e ͼ
-	 * @param txt ı
-	 * @param pc ϵ
-	 * @param txtPolarPoint 
-	 * @param fontName 
-	 * @param fontStyle 
-	 * @param fontSize ֺ
-	 * @param c ǰɫ
-	 * @param textOverlapping ıص
+	 * 绘制极坐标系下的文本
+	 * @param e 绘图引擎
+	 * @param txt 文本
+	 * @param pc 极坐标系
+	 * @param txtPolarPoint 极坐标点
+	 * @param fontName 字体
+	 * @param fontStyle 风格
+	 * @param fontSize 字号
+	 * @param c 前景色
+	 * @param textOverlapping 允许文本重叠
 	 */
 	public static void drawPolarPointText(Engine e, String txt, PolarCoor pc,
 			Point2D txtPolarPoint, String fontName, int fontStyle,
@@ -3189,17 +3189,17 @@ public class Utils {
 	}
 
 	/**
-	 * Ƽϵµı
-	 * @param e ͼ
-	 * @param txt ı
-	 * @param pc ϵ
-	 * @param txtPolarPoint 
-	 * @param fontName 
-	 * @param fontStyle 
-	 * @param fontSize ֺ
-	 * @param c ǰɫ
-	 * @param textOverlapping ıص
-	 * @param specifiedLocation ĵ㷽λ
+	 * 绘制极坐标系下的文本
+	 * @param e 绘图引擎
+	 * @param txt 文本
+	 * @param pc 极坐标系
+	 * @param txtPolarPoint 极坐标点
+	 * @param fontName 字体
+	 * @param fontStyle 风格
+	 * @param fontSize 字号
+	 * @param c 前景色
+	 * @param textOverlapping 允许文本重叠
+	 * @param specifiedLocation 相对中心点方位
 	 */
 	public static void drawPolarPointText(Engine e, String txt, PolarCoor pc,
 			Point2D txtPolarPoint, String fontName, int fontStyle,
@@ -3223,18 +3223,18 @@ public class Utils {
 	}
 
 	/**
-	 * ָƽ滷
-	 * @param g ͼ豸
-	 * @param bigBounds ⻷߽
-	 * @param smallBounds ڻ߽
-	 * @param start ʼǶ
-	 * @param extent ǶȷΧ
-	 * @param borderColor ߿ɫ
-	 * @param borderStyle ߿
-	 * @param borderWeight ߿ֶ
-	 * @param transparent ͸
-	 * @param fillColor ɫ
-	 * @return Ӧ״
+	 * 指定参数绘制平面环
+	 * @param g 图形设备
+	 * @param bigBounds 外环边界
+	 * @param smallBounds 内环边界
+	 * @param start 起始角度
+	 * @param extent 角度范围
+	 * @param borderColor 边框颜色
+	 * @param borderStyle 边框风格
+	 * @param borderWeight 边框粗度
+	 * @param transparent 透明度
+	 * @param fillColor 填充颜色
+	 * @return 对应环弧的形状
 	 */
 	public static Shape draw2DRing(Graphics2D g, Rectangle2D bigBounds,
 			Rectangle2D smallBounds, double start, double extent,
@@ -3246,19 +3246,19 @@ public class Utils {
 	}
 
 	/**
-	 * ָƽ滷
-	 * @param g ͼ豸
-	 * @param bigBounds ⻷߽
-	 * @param smallBounds ڻ߽
-	 * @param start ʼǶ
-	 * @param extent ǶȷΧ
-	 * @param borderColor ߿ɫ
-	 * @param borderStyle ߿
-	 * @param borderWeight ߿ֶ
-	 * @param transparent ͸
-	 * @param fillColor ɫ
-	 * @param fillAsPie ڰ뾶Ϊ0,ֻһʱ˻ΪȣֱӻΣϲǷֻһ
-	 * @return Ӧ״
+	 * 指定参数绘制平面环
+	 * @param g 图形设备
+	 * @param bigBounds 外环边界
+	 * @param smallBounds 内环边界
+	 * @param start 起始角度
+	 * @param extent 角度范围
+	 * @param borderColor 边框颜色
+	 * @param borderStyle 边框风格
+	 * @param borderWeight 边框粗度
+	 * @param transparent 透明度
+	 * @param fillColor 填充颜色
+	 * @param fillAsPie 内半径为0,且只有一个分类时，环退化为扇，直接画扇形，由上层程序告诉是否只有一个分类
+	 * @return 对应环弧的形状
 	 */
 	public static Shape draw2DRing(Graphics2D g, Rectangle2D bigBounds,
 			Rectangle2D smallBounds, double start, double extent,
@@ -3271,7 +3271,7 @@ public class Utils {
 		h = (bigBounds.getHeight() + smallBounds.getHeight()) / 2;
 		Rectangle2D midBounds = new Rectangle2D.Double(x, y, w, h);
 
-		// СԲ10ȣֹͬʱ㾫һֱߵ״̬
+		// 小的圆弧角域增加10度，防止角域相同时，计算精度问题会减不净，留下一条直线等状态
 		Arc2D smallSector = new Arc2D.Double(smallBounds, start - 5,
 				extent + 10, Arc2D.PIE);
 		Arc2D bigSector = new Arc2D.Double(bigBounds, start, extent, Arc2D.PIE);
@@ -3294,14 +3294,14 @@ public class Utils {
 					g.setPaint(gp);
 					Utils.fillPaint(g, ring, transparent);
 				}
-			} else {// Բ,donut
+			} else {// 圆环,donut
 				double dAngle = 3;
 				double sAngle = start;
 				while (sAngle <= endAngle) {
 					smallSector = new Arc2D.Double(smallBounds, sAngle - 5,
 							dAngle + 10, Arc2D.PIE);
 					double tmps = sAngle, tmpa = dAngle;
-					if (tmps != start) {// ÿһdring˴صdelta֮Ŀ϶
+					if (tmps != start) {// 让每一个dring彼此重叠，避免delta之间的空隙
 						tmps -= dAngle;
 						tmpa += dAngle * 2;
 					}
@@ -3316,7 +3316,7 @@ public class Utils {
 							dAngle / 2f, Arc2D.PIE);
 					bigSector = new Arc2D.Double(midBounds, sAngle,
 							dAngle / 2f, Arc2D.PIE);
-					// deltaĻе
+					// delta环的环中点
 					Point2D dp1 = smallSector.getEndPoint();
 					Point2D dp2 = bigSector.getEndPoint();
 					if (ccr.getF1() != null && ccr.getF2() != null) {
@@ -3363,11 +3363,11 @@ public class Utils {
 	}
 
 	/**
-	 * װ滻ŵתݣҲǳ滻
-	 * @param src Դı
-	 * @param sold Ҫ滻ı
-	 * @param snew ı
-	 * @return 滻ɵĿ괮
+	 * 封装简易替换操作，忽略引号括号等转义符内容，也就是彻底替换
+	 * @param src 源文本串
+	 * @param sold 需要替换掉的文本
+	 * @param snew 新文本
+	 * @return 替换完成的目标串
 	 */
 	public static String replaceAll(String src, String sold, String snew) {
 		return Sentence.replace(src, 0, sold, snew, Sentence.IGNORE_CASE
@@ -3376,13 +3376,13 @@ public class Utils {
 	}
 
 	/**
-	 * ı滻ӦĲʽ
-	 * @param link Ҫ滻İʽĴ
-	 * @param data1  滻ʽ"@data1"
-	 * @param data2  滻ʽ"@data2"
-	 * @param text  滻ʽ"@text"
-	 * @param legend  滻ʽ"@legend"
-	 * @return 滻Ĵ
+	 * 处理超链接文本串，将内容替换掉相应的参数格式
+	 * @param link 要替换的包含参数格式的串
+	 * @param data1  替换格式"@data1"内容
+	 * @param data2  替换格式"@data2"内容
+	 * @param text  替换格式"@text"内容
+	 * @param legend  替换格式"@legend"内容
+	 * @return 替换后的串
 	 */
 	public static String getHtmlLink(String link, Object data1, Object data2,
 			String text, String legend) {
@@ -3405,16 +3405,16 @@ public class Utils {
 	}
 
 	/**
-	 * ıΪʱΪͼ
-	 * @param value ıͼԪ
-	 * @param index ıΪʱı
-	 * @param fore ǰɫ
-	 * @param back ɫ
-	 * @return ͼ
+	 * 文本输出为条形码时，绘制为缓冲图像的条码
+	 * @param value 文本图元
+	 * @param index 文本数据为序列时的文本序号
+	 * @param fore 前景色
+	 * @param back 背景色
+	 * @return 缓冲图像
 	 */
 	public static BufferedImage calcBarcodeImage(Text value, int index, Color fore,
 			Color back) {
-		int TRANSPARENT = 0x00FFFFFF;// ȫ0ɵpdfʧܣ
+		int TRANSPARENT = 0x00FFFFFF;// 不能是用全0，会造成导出pdf失败；
 		int BLACK = 0xFF000000;
 		int WHITE = 0xFFFFFFFF;
 
@@ -3436,18 +3436,18 @@ public class Utils {
 		}
 
 		if (value.barType == Consts.TYPE_QRCODE) {
-			// Ƕά룬ͼQuietZoneİױߣ30ƣȻȡ
+			// 如果是二维码，用正方形区域来绘图，且由于有QuietZone的白边，多给30像素来绘制，然后取数据区域
 			int minWH = w < h ? w : h;
-			w = h = (minWH + 30);// 30߿Աü󣬸ӽʵʿ
+			w = h = (minWH + 30);// 留出30边框以便裁剪数据区域后，更接近于实际宽高
 		} else if (value.dispText) {
-			// 룬ʾֿ֣ռ
+			// 如果是条形码，且显示文字，留出文字空间
 			Rectangle rect = getTextRect(value,index);
 			h -= (rect.height + 10);
 		}
 
 		MultiFormatWriter multiFormatWriter = new MultiFormatWriter();
 		Map<EncodeHintType, Object> hints = new HashMap<EncodeHintType, Object>();
-		// ˵ַСдĳЩɨǹжַ xq 2016121
+		// 说是字符集名称小写后，某些扫描枪才正常，否则有多余字符 xq 2016年12月1日
 		hints.put(EncodeHintType.CHARACTER_SET, value.charSet.toLowerCase());
 		char errLevel = value.recError.charAt(0);
 		ErrorCorrectionLevel ecl;
@@ -3462,7 +3462,7 @@ public class Utils {
 		}
 		hints.put(EncodeHintType.ERROR_CORRECTION, ecl);
 		if(value.barType==Consts.TYPE_QRCODE) {
-//			άĳĬΪ
+//			二维码改成默认为正方形
 			hints.put(EncodeHintType.DATA_MATRIX_SHAPE, SymbolShapeHint.FORCE_SQUARE);
 		}
 		try {
@@ -3506,10 +3506,10 @@ public class Utils {
 	}
 
 	/**
-	 * ıͼԪеindexıĿռλ
-	 * @param value ıͼԪ
-	 * @param index 
-	 * @return Ŀռ
+	 * 计算文本图元中第index个文本的空间位置
+	 * @param value 文本图元
+	 * @param index 文字序号
+	 * @return 矩形描述的空间
 	 */
 	public static Rectangle getTextRect(Text value,int index) {
 		Font font = new Font(value.textFont.stringValue(index), Font.PLAIN, value.textSize.intValue(index));
@@ -3527,7 +3527,7 @@ public class Utils {
 		int height = matrix.getHeight();
 		int x1 = 0, x2 = width;
 		int y1 = 0, y2 = height;
-		// pdf417, ߴԶŴ
+		// pdf417, 条码尺寸会自动撑大
 		if (value.barType == Consts.TYPE_PDF417) {
 			Point leftUpCorner = get417Margin(matrix);
 			x1 = leftUpCorner.x;
@@ -3544,8 +3544,8 @@ public class Utils {
 			dh = dh + rect.height;
 		}
 		BufferedImage image = new BufferedImage(dw, dh,
-				BufferedImage.TYPE_INT_RGB);// ʹARGB򵼳Excelа͸Ч xq
-											// 20161122
+				BufferedImage.TYPE_INT_RGB);// 不能使用ARGB，否则导出到Excel会有半透明效果 xq
+											// 2016年11月22日
 		Graphics2D g = image.createGraphics();
 		g.setBackground(new Color(backColor));
 		g.clearRect(0, 0, dw, dh);
@@ -3553,7 +3553,7 @@ public class Utils {
 		int txtHeight = 0;
 
 		if (value.dispText) {
-			// Զָ߶Ⱥ󣬲Ҫжϸ߶ȿռ
+			// 上述代码自动增加文字高度后，不需要判断高度空间了
 			// txtHeight = fm.getHeight();
 			boolean isSpaceEnough = (txtHeight < dh - 10);
 			int txtWidth = fm.stringWidth(value.getDispText(index));
@@ -3587,12 +3587,12 @@ public class Utils {
 	}
 
 	/**
-	 * άϢmatrixںıݣӡlogoά
-	 * @param text ıͼԪ
-	 * @param matrix άϢ
-	 * @param foreColor ǰɫ
-	 * @param backColor ɫ
-	 * @return ںıϢĶά뻺ͼ
+	 * 将二维码信息matrix融合文本内容，比如打印logo到二维码
+	 * @param text 文本图元
+	 * @param matrix 二维码信息矩阵
+	 * @param foreColor 前景色
+	 * @param backColor 背景色
+	 * @return 融合文本信息的二维码缓冲图像
 	 */
 	public static BufferedImage toBufferedQRImage(Text text, BitMatrix matrix,
 			int foreColor, int backColor) {
@@ -3644,9 +3644,9 @@ public class Utils {
 	}
 
 	/**
-	 * ļݣλ·µļ
-	 * @param fileValue ļڼݵãļѾΪֽ
-	 * @return ļݵֽ
+	 * 读出环境配置下文件的内容，比如位于搜索路径下的文件
+	 * @param fileValue 文件名，用于兼容调用，文件名本身可以已经为字节内容
+	 * @return 文件内容的字节数组
 	 */
 	public static byte[] getFileBytes(Object fileValue) {
 		Object imgVal = fileValue;
@@ -3708,8 +3708,8 @@ public class Utils {
 	}
 	
 	/**
-	 * zxingcode28ֻautoͣһCode128ABC
-	  *  ʹǿƵABC
+	 * zxing的code28只有auto类型，抄了一个类Code128ABC
+	  *  使用强制的ABC类型
 	 * @param raqType
 	 * @return
 	 */
@@ -3729,10 +3729,10 @@ public class Utils {
 		case Consts.TYPE_CODE128C:
 			return BarcodeFormat.CODE_128;
 		case Consts.TYPE_CODE39:
-			// Code 39ֻ43Чַ 26дĸA - Z ʮ֣0 - 9
-			// עСдĸᱨ
+			// Code 39只接受如下43个有效输入字符： 　　26个大写字母（A - Z）， 　　十个数字（0 - 9）
+			// 注意小写字母会报错
 			return BarcodeFormat.CODE_39;
-		case Consts.TYPE_EAN13:// ean13Աϸ򣬲,ʾֵ7501054530107
+		case Consts.TYPE_EAN13:// ean13对编码有严格规则，不能是随便的数字,示例值：7501054530107
 			return BarcodeFormat.EAN_13;
 		case Consts.TYPE_EAN8:
 			return BarcodeFormat.EAN_8;
@@ -3748,14 +3748,14 @@ public class Utils {
 	}
 
 	/**
-	 * p1p2ֱϵĵ
-	 * @param p1 ˵1
-	 * @param p2 ˵2
-	 * @param x, ֱߣx
-	 * @return xӦy
+	 * 求出经过点p1和p2的直线上的点
+	 * @param p1 端点1
+	 * @param p2 端点2
+	 * @param x, 经过两点的直线，待求点的x坐标
+	 * @return x对应的y坐标
 	 */
 	public static double calcLineY(Point2D.Double p1, Point2D.Double p2, double x){
-//		ֱߵķΪy=kx+b
+//		直线的方程为y=kx+b
 //		y1=kx1+b;y2=kx2+b;
 //		k=(y2-y1)/(x2-x1)
 //		b = y1-kx1
@@ -7,7 +7,7 @@ import com.scudata.common.*;
 import com.scudata.expression.*;
 
 /**
- * ͼԪϢǼ࣬ͨǼǺͼԪԶг༭б
+ * 图元信息登记类，通过登记后的图元会自动列出到编辑界面的下拉列表里面
  * @author Joancy
  *
  */
@@ -19,16 +19,16 @@ public class ElementInfo {
 	private ArrayList chartParams;
 
 	/**
-	 * ȱʡ캯
+	 * 缺省构造函数
 	 */
 	public ElementInfo() {
 	}
 
 	/**
-	 * ֵָͼԪϢ
-	 * @param name 
-	 * @param title 
-	 * @param elementClass ͼԪʵ
+	 * 根据指定值构造图元信息
+	 * @param name 名称
+	 * @param title 标题
+	 * @param elementClass 图元的实现类
 	 */
 	public ElementInfo(String name, String title, Class elementClass) {
 		this.name = name;
@@ -48,8 +48,8 @@ public class ElementInfo {
 	}
 
 	/**
-	 * ʵһͼԪ
-	 * @return ػͼԪ
+	 * 实例化一个图元
+	 * @return 返回基类图元对象
 	 */
 	public ObjectElement getInstance() {
 		try {
@@ -61,8 +61,8 @@ public class ElementInfo {
 	}
 
 	/**
-	 * plotStringݶȡ༭Ϣ
-	 * @param plotString plotʽı
+	 * 从plotString内容读取编辑信息
+	 * @param plotString plot格式的文本串
 	 */
 	public void setPlotString(String plotString) {
 		int len = plotString.length();
@@ -82,9 +82,9 @@ public class ElementInfo {
 	}
 
 	/**
-	 * ༭ıڵĲбתΪplotʽı
-	 * @param pil ༭òĲϢб
-	 * @return plotʽı
+	 * 将编辑文本所在的参数列表内容转换为plot格式文本串
+	 * @param pil 编辑好参数的参数信息列表
+	 * @return plot格式文本串
 	 */
 	public String toPlotString(ParamInfoList pil) {
 		StringBuffer sb = new StringBuffer("plot(");
@@ -138,8 +138,8 @@ public class ElementInfo {
 	}
 
 	/**
-	 * ͼԪĲתΪ༭õĲϢб
-	 * @return ༭òϢб
+	 * 将图元的参数内容转为编辑用的参数信息列表
+	 * @return 编辑用参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = listParamInfoList();
@@ -149,7 +149,7 @@ public class ElementInfo {
 		for (int i = 0; i < chartSize; i++) {
 			ChartParam cp = (ChartParam) chartParams.get(i);
 			ParamInfo pi = paramInfos.getParamInfoByName(cp.getName());
-			if (pi == null) {// ˵Ĳ
+			if (pi == null) {// 被废弃了的参数
 				continue;
 			}
 			pi.setChartParam(cp);
@@ -158,24 +158,24 @@ public class ElementInfo {
 	}
 
 	/**
-	 * ȡͼԪ
-	 * @return 
+	 * 获取图元名称
+	 * @return 名称
 	 */
 	public String getName() {
 		return name;
 	}
 
 	/**
-	 * ȡͼԪ
-	 * @return 
+	 * 获取图元标题
+	 * @return 标题
 	 */
 	public String getTitle() {
 		return title;
 	}
 
 	/**
-	 * ȡͼԪʵ
-	 * @return ͼԪ
+	 * 获取图元的实现类
+	 * @return 图元类
 	 */
 	public Class getElementClass() {
 		return elementClass;
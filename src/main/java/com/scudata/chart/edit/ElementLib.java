@@ -8,8 +8,8 @@ import com.scudata.common.MessageManager;
 import java.io.*;
 
 /**
- * ͼԪ࣬ÿһʵֵͼԪҪloadSystemElements()еǼ
- * ǼǺͼԪŻڽԶгԼԲб༭
+ * 图元库管理类，每一个新实现的图元都需要在loadSystemElements()中登记
+ * 登记后的图元才会在界面自动列出，以及对参数进行编辑
  * @author Joancy
  *
  */
@@ -47,9 +47,9 @@ public class ElementLib {
 	}
 
 	/**
-	 * ͼԪƻȡӦͼԪϢ
-	 * @param name 
-	 * @return ͼԪϢ
+	 * 根据图元名称获取对应的图元信息类
+	 * @param name 名称
+	 * @return 图元信息类
 	 */
 	public static ElementInfo getElementInfo(String name) {
 		for (int i = 0; i < elementList.size(); i++) {
@@ -62,10 +62,10 @@ public class ElementLib {
 	}
 
 	/**
-	 * ָͼԪϢбвͼԪϢ
-	 * @param al ͼԪϢб
-	 * @param name ͼԪ
-	 * @return ͼԪϢ
+	 * 在指定的图元信息列表中查找图元信息
+	 * @param al 图元信息列表
+	 * @param name 图元名称
+	 * @return 图元信息类
 	 */
 	public static ElementInfo getElementInfo(ArrayList<ElementInfo> al,
 			String name) {
@@ -76,10 +76,10 @@ public class ElementLib {
 	}
 
 	/**
-	 * ڳһͼԪϢ
-	 * @param group ͼԪķ
-	 * @param name 
-	 * @param className ȫ·
+	 * 在程序中添加一个图元信息
+	 * @param group 图元所属的分组
+	 * @param name 名称
+	 * @param className 类的全路径名称
 	 */
 	public static void addElement(String group, String name, String className) {
 		try {
@@ -102,23 +102,23 @@ public class ElementLib {
 	}
 
 	/**
-	 * ȡǰµȫͼԪϢб
-	 * @return ͼԪϢб
+	 * 获取当前环境下的全部图元信息列表
+	 * @return 图元信息列表
 	 */
 	public static ArrayList<ArrayList<ElementInfo>> getElementInfoList() {
 		return elementList;
 	}
 
 	/**
-	 * ȡǰȫͼԪ
-	 * @return ȫб
+	 * 获取当前环境下全部图元组标题
+	 * @return 全部组标题列表
 	 */
 	public static ArrayList<String> getElementTitleList() {
 		return groupList;
 	}
 
 	/**
-	 * ǼȫʵֵϵͳͼԪ
+	 * 登记全部实现的系统图元
 	 */
 	public static void loadSystemElements() {
 		String group = "axis";
@@ -149,8 +149,8 @@ public class ElementLib {
 	}
 
 	/**
-	 * ԶͼԪϢ
-	 * @param is ԶϢļ
+	 * 加载自定义图元信息
+	 * @param is 自定义信息的配置文件流
 	 */
 	public static void loadCustomElements(InputStream is) {
 		try {
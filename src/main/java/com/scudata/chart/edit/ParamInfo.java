@@ -11,7 +11,7 @@ import com.scudata.expression.*;
 import java.awt.*;
 
 /**
- * Ϣ࣬ĳı༭
+ * 参数信息类，用于描述某个具体参数的编辑类型
  * @author Joancy
  *
  */
@@ -20,7 +20,7 @@ public class ParamInfo extends ChartParam {
 	private String title;
 	private int inputType;
 	private boolean axisEnable = false;
-	private Object defValue;// ֻ༭õȱʡֵɾʽøֵȾֵȱʡֵһ
+	private Object defValue;// 只给编辑用的缺省值，用于删除表达式后，用该值渲染，该值跟类的缺省值一致
 
 	private static transient Class currentClass;
 	private static transient Object currentObj;
@@ -28,10 +28,10 @@ public class ParamInfo extends ChartParam {
 	private MessageManager mm = ChartMessage.get();
 
 	/**
-	 * ͼԪļ̳ǶģΪ׼ȷλһ㸸
-	 * ʹø÷ǰ
-	 * @param objClass ĳ㸸
-	 * @param obj ʵ
+	 * 图元的继承是多层的，为了准确定位到具体在哪一层父类
+	 * 使用该方法描述当前工作层
+	 * @param objClass 具体的某层父类
+	 * @param obj 该类的实例对象
 	 */
 	public static void setCurrent(Class objClass, Object obj) {
 		currentClass = objClass;
@@ -39,17 +39,17 @@ public class ParamInfo extends ChartParam {
 	}
 
 	/**
-	 * һ༭͵ĲϢ
-	 * @param name 
+	 * 构造一个常规编辑类型的参数信息
+	 * @param name 参数名称
 	 */
 	public ParamInfo(String name) {
 		this(name, Consts.INPUT_NORMAL);
 	}
 
 	/**
-	 * ָ༭͵ĲϢ
-	 * @param name 
-	 * @param inputType ༭ֵͣοConsts.INPUT_XXX
+	 * 构造指定参数编辑类型的参数信息
+	 * @param name 名称
+	 * @param inputType 编辑类型，值参考：Consts.INPUT_XXX
 	 */
 	public ParamInfo(String name, int inputType) {
 		this.name = name;
@@ -75,8 +75,8 @@ public class ParamInfo extends ChartParam {
 	}
 
 	/**
-	 * ȡòȱʡֵ
-	 * @return ֵ
+	 * 获取该参数的缺省值
+	 * @return 值
 	 */
 	public Object getDefValue() {
 		return defValue;
@@ -87,8 +87,8 @@ public class ParamInfo extends ChartParam {
 	}
 
 	/**
-	 * ݻcpݣõǰ
-	 * @param cp 
+	 * 根据基类cp的内容，设置当前内容
+	 * @param cp 基类参数
 	 */
 	public void setChartParam(ChartParam cp) {
 		Object tmp = cp.getValue();
@@ -111,24 +111,24 @@ public class ParamInfo extends ChartParam {
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取参数标题
+	 * @return 标题内容
 	 */
 	public String getTitle() {
 		return title;
 	}
 	
 	/**
-	 * òı
-	 * @param title 
+	 * 设置参数的标题
+	 * @param title 标题内容
 	 */
 	public void setTitle(String title){
 		this.title = title;
 	}
 
 	/**
-	 * ȡı༭
-	 * @return Constsжõı༭
+	 * 获取参数的编辑类型
+	 * @return Consts中定义好的编辑类型
 	 */
 	public int getInputType() {
 		return inputType;
@@ -6,7 +6,7 @@ import com.scudata.chart.resources.*;
 import com.scudata.common.*;
 
 /**
- * Ϣб࣬ڱ༭гͼԪĿɱ༭Ϣ
+ * 参数信息列表类，用于编辑面板中列出图元的可编辑参数信息
  * @author Joancy
  *
  */
@@ -19,7 +19,7 @@ public class ParamInfoList {
 	private MessageManager mm = ChartMessage.get();
 
 	/**
-	 * ȱʡ캯
+	 * 缺省参数构造函数
 	 */
 	public ParamInfoList() {
 	}
@@ -33,11 +33,11 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * һϢбȫӵǰб
-	 * @param pil Ϣб
+	 * 将另一个参数信息列表的内容全部添加到当前列表
+	 * @param pil 参数信息列表
 	 */
 	public void addAll(ParamInfoList pil) {
-		//pilзҪͬƺϲĳ´
+		//pil中分组名称要跟本参数分组相同名称合并，改成如下代码
 		ArrayList<String> groupNames = pil.getGroupNames();
 		for( int i=0; i<groupNames.size(); i++){
 			String grpName = groupNames.get(i);
@@ -50,9 +50,9 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * һϢpiӵgroup
-	 * @param group 
-	 * @param pi Ϣ
+	 * 将一个参数信息pi添加到分组group下
+	 * @param group 组名称
+	 * @param pi 参数信息
 	 */
 	public void add(String group, ParamInfo pi) {
 		ArrayList<ParamInfo> pis = null;
@@ -76,9 +76,9 @@ public class ParamInfoList {
 	}
 	
 	/**
-	 * ĳЩ಻ҪжõĲϢʱɾ
-	 * úɾµϢ
-	 * @param group 
+	 * 某些子类不需要父类中定义好的参数信息时，可以删除它
+	 * 该函数删除整个组下的信息
+	 * @param group 分组名称
 	 */
 	public void deleteGroup(String group){
 		group = mm.getMessage(group);
@@ -90,9 +90,9 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * ɾgroupµһϢ
-	 * @param group 
-	 * @param name Ϣ
+	 * 删除分组group下的一个参数信息
+	 * @param group 分组名
+	 * @param name 参数信息的名称
 	 */
 	public void delete(String group, String name){
 		group = mm.getMessage(group);
@@ -100,25 +100,25 @@ public class ParamInfoList {
 	}
 	
 	/**
-	 * ·£Ҳκη飬һϢ
-	 * @param pi Ϣ
+	 * 往根路径下，也即不属于任何分组，增加一个参数信息
+	 * @param pi 参数信息
 	 */
 	public void add(ParamInfo pi) {
 		rootList.add(pi);
 	}
 	
 	/**
-	 * ɾĿ¼µĲϢ
-	 * @param name 
+	 * 删除根目录下的参数信息
+	 * @param name 参数名称
 	 */
 	public void delete(String name){
 		delete(rootList,name);
 	}
 	
 	/**
-	 * ָĲϢбɾһϢ
-	 * @param list Ϣб
-	 * @param name ҪɾĲ
+	 * 从指定的参数信息列表中删掉一个参数信息
+	 * @param list 参数信息列表
+	 * @param name 要删除的参数名称
 	 */
 	public void delete(ArrayList<ParamInfo> list,String name){
 		for(int i=0; i<list.size();i++){
@@ -131,17 +131,17 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * гǰϢбеȫ
-	 * @return б
+	 * 列出当前信息列表中的全部分组名称
+	 * @return 分组名称列表
 	 */
 	public ArrayList<String> getGroupNames() {
 		return groupNames;
 	}
 
 	/**
-	 * ȡһвϢб
-	 * @param groupName 
-	 * @return Ϣб
+	 * 获取一个分组的所有参数信息列表
+	 * @param groupName 分组名称
+	 * @return 参数信息列表
 	 */
 	public ArrayList<ParamInfo> getParams(String groupName) {
 		ArrayList<ParamInfo> pis = null;
@@ -155,17 +155,17 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * ȡĿ¼µȫϢб
-	 * @return Ϣб
+	 * 获取根目录下的全部参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ArrayList<ParamInfo> getRootParams() {
 		return rootList;
 	}
 
 	/**
-	 * вϢҵӦĲϢ
-	 * @param name 
-	 * @return Ϣ
+	 * 从所有参数信息中找到对应的参数信息
+	 * @param name 参数名称
+	 * @return 参数信息
 	 */
 	public ParamInfo getParamInfoByName(String name) {
 		ArrayList<ParamInfo> aps = getAllParams();
@@ -180,8 +180,8 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * гвϢۺбĿ¼Լз
-	 * @return ȫϢб
+	 * 列出所有参数信息的综合列表，包含根目录以及下面所有分组
+	 * @return 全部参数信息列表
 	 */
 	public ArrayList<ParamInfo> getAllParams() {
 		ArrayList<ParamInfo> aps = new ArrayList<ParamInfo>();
@@ -10,9 +10,9 @@ import com.scudata.chart.edit.*;
 import com.scudata.common.ImageUtils;
 
 /**
- * ͼԪ
- * Ȼɫٻͼͼ͸ģ߲ŻᶼЧ
- * ͼƬסɫ 
+ * 背景图元
+ * 先画背景颜色，再画背景图，如果背景图是透明的，两者才会都生效。
+ * 否则图片会盖住颜色 
  * @author Joancy
  *
  */
@@ -20,33 +20,33 @@ public class BackGround extends ObjectElement {
 	public ChartColor backColor = new ChartColor(Color.white);
 	public float transparent = 1f;
 	public boolean visible = true;
-	// ͼƬ
+	// 图片背景
 	public Para imageValue = new Para();
-	// ͼƬģʽ
+	// 图片填充模式
 	public int imageMode = Consts.MODE_NONE;
 
 	/**
-	 * ͼԪǷɼ
+	 * 图元是否可见
 	 */
 	public boolean isVisible() {
 		return visible;
 	}
 
 	/**
-	 * ͼȻƣò
+	 * 背景图会最先绘制，该层忽略
 	 */
 	public void beforeDraw() {
 	}
 
 	/**
-	 * ͼȻƣò
+	 * 背景图会最先绘制，该层忽略
 	 */
 	public void draw() {
 	}
 	
 	/**
-	 * ȡͼԭʼ
-	 * @return ͸ߵֵ
+	 * 获取图像的原始宽高
+	 * @return 宽和高的像素值
 	 */
 	public int[] getOrginalWH(){
 		Object imgVal = imageValue.getValue();
@@ -61,7 +61,7 @@ public class BackGround extends ObjectElement {
 	}
 
 	/**
-	 * 
+	 * 背景层绘制
 	 */
 	public void drawBack() {
 		if (!isVisible()) {
@@ -107,14 +107,14 @@ public class BackGround extends ObjectElement {
 	}
 
 	/**
-	 * ǰƣԸò
+	 * 前景层绘制，忽略该层
 	 */
 	public void drawFore() {
 	}
 
 	/**
-	 * ÿͼԪҪȵĿɱ༭Ϣб
-	 * @return ParamInfoList ǰͼԪĲϢб
+	 * 每个图元都需要事先的可编辑参数信息列表
+	 * @return ParamInfoList 当前图元的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -131,8 +131,8 @@ public class BackGround extends ObjectElement {
 	}
 
 	/**
-	 * ͼԪɺ󣬲shape
-	 * ǰͼԪ
+	 * 图元绘制完成后，产生的链接shape
+	 * 当前图元无意义
 	 * @return Shape null
 	 */
 	public ArrayList<Shape> getShapes() {
@@ -140,8 +140,8 @@ public class BackGround extends ObjectElement {
 	}
 
 	/**
-	 * ͼԪɺ󣬲ĳб
-	 * ǰͼԪ
+	 * 图元绘制完成后，产生的超链接列表
+	 * 当前图元无意义
 	 * @return null
 	 */
 	public ArrayList<String> getLinks() {
@@ -151,7 +151,7 @@ public class BackGround extends ObjectElement {
 	protected transient Engine e;
 
 	/**
-	 * ͼ
+	 * 设置图形引擎
 	 */
 	public void setEngine(Engine e) {
 		this.e = e;
@@ -159,8 +159,8 @@ public class BackGround extends ObjectElement {
 	}
 
 	/**
-	 * ȡǰͼ
-	 * @return 
+	 * 获取当前图形引擎
+	 * @return 引擎
 	 */
 	public Engine getEngine() {
 		return e;
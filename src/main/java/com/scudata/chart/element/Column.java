@@ -9,43 +9,43 @@ import com.scudata.common.*;
 import com.scudata.dm.*;
 
 /**
- * ͼԪ
- * ͼԪչΪ״ֱͼֱͼԲͼ
- * öʱΪϵͼ
- * رأͼԪڼϵ±ΪһĻ
+ * 柱图元
+ * 柱图元可以展现为所有条状，包含直方图，立体直方图，圆柱图
+ * 如果枚举轴在纵轴时则表现为系列条形图
+ * 特别地，柱图元在极坐标系下表现为一条弯曲的环
  * @author Joancy
  *
  */
 public class Column extends Ring {
-	// Ӹ߶һ߼꣬ʽ[w1,w2,...,wn]w
+	// 柱子高度轴的另一个逻辑坐标，格式[w1,w2,...,wn]或w
 	public Sequence data3 = null;
-	// ӿ,öϣ<=1ʾϵռı>1ʾؿȡڻֵʱ<=1ʾ᳤ı>1ʾؿ
+	// 柱子宽度,如果是枚举轴上：<=1表示跟系列占宽的比例，>1表示绝对像素宽度。如果是日期或者数值轴时，<=1表示跟轴长的比例，>1表示绝对像素宽度
 	public Para columnWidth = new Para(new Double(0.9));
 
-	// 
+	// 柱子类型
 	public Para columnShape = new Para(new Integer(Consts.COL_COBOID));
 
-	// ʾֺ
+	// 标示文字横向对齐
 	public Para horizontalAlign = new Para(new Integer(Consts.HALIGN_CENTER));
 
-	// ʾ
+	// 标示文字纵向对齐
 	public Para verticalAlign = new Para(new Integer(Consts.VALIGN_TOP));
 
-	// ǷӰ
+	// 是否有阴影
 	public boolean shadow = true;
 
-	// ͻ߿
+	// 突出边框
 	public boolean convexEdge = false;
 
 	/**
-	 * ȱʡĹ캯
+	 * 缺省参数的构造函数
 	 */
 	public Column() {
 	}
 
 	/**
-	 * ͼԪǰ׼
-	 * ݲƥʱӳ쳣
+	 * 图元计算前准备，检查数据完整性
+	 * 数据不完整，不匹配时扔出异常
 	 */
 	public void prepare() {
 		super.prepare();
@@ -58,19 +58,19 @@ public class Column extends Ring {
 	}
 
 	/**
-	 * ȡindexӵĿ
-	 * öֵϵпȣ
-	 * ڻֱֵӰط
-	 * @param ia ̶
-	 * @param index 
-	 * @return ذصӿ
+	 * 获取第index个柱子的宽度
+	 * 枚举值的柱宽比照系列宽度；
+	 * 日期或者数值轴直接按照像素返回
+	 * @param ia 刻度轴
+	 * @param index 柱子序号
+	 * @return 返回按像素的柱子宽度
 	 */
 	public double getColumnWidth(TickAxis ia, int index) {
 		double colWidth = columnWidth.doubleValue(index);
 		if (ia instanceof EnumAxis) {
 			colWidth = ia.getValueRadius(colWidth);
 		}
-//		Ϊ00أС1أҪͼλƲ
+//		如果柱宽为0则按0返回，否则最小得1像素，要不图形绘制不出来
 		if(colWidth==0){
 			return 0;
 		}else if(colWidth<1){
@@ -80,9 +80,9 @@ public class Column extends Ring {
 	}
 
 	/**
-	 * ӿԻƴ3ֵݵһ
-	 * ʱʹdata3
-	 * @return ߼3
+	 * 柱子可以绘制从数据3到数值数据的一段自由柱
+	 * 这种自由柱时使用data3
+	 * @return 逻辑数据3的序列
 	 */
 	public Sequence getData3() {
 		return data3;
@@ -90,7 +90,7 @@ public class Column extends Ring {
 
 	protected Shape drawFreeColumn(int index, Point2D p1, Point2D p2, int step,
 			boolean isVertical, int seriesIndex) {
-		// ֻеһʱŻ᷵ӵ״
+		// 只有第一步计算时才会返回数据链接的形状
 		Shape linkShape = null;
 
 		double leftX = Math.min(p1.getX(), p2.getX());
@@ -105,7 +105,7 @@ public class Column extends Ring {
 
 		// Graphics2D g = e.getGraphics();
 		switch (step) {
-		case 1: // 
+		case 1: // 画柱子
 			int style = columnShape.intValue();
 			switch (style) {
 			case Consts.COL_CUBE:
@@ -126,7 +126,7 @@ public class Column extends Ring {
 				linkShape = draw2DColumn(x, y, w, h, seriesIndex, isVertical);
 			}
 			break;
-		case 2: // 
+		case 2: // 画柱顶文字
 			String txt = text.stringValue(index);
 			if (!StringUtils.isValidString(txt)) {
 				return null;
@@ -245,7 +245,7 @@ public class Column extends Ring {
 					height, 0, 360, Arc2D.OPEN);
 		}
 		if (transparent < 1) {
-			// g.setColor(chartColor.getColor1()); // Բ
+			// g.setColor(chartColor.getColor1()); // 底面圆
 			Utils.fill(g, bottomOval, transparent, chartColor.getColor1());
 		}
 		if (Utils.setStroke(g, bc, bs, bw)) {
@@ -301,8 +301,8 @@ public class Column extends Ring {
 	}
 
 	/**
-	 * ȡͼԪı༭Ϣб
-	 * @return Ϣб
+	 * 获取柱图元的编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -325,12 +325,12 @@ public class Column extends Ring {
 		paramInfos.add(group, new ParamInfo("verticalAlign",
 				Consts.INPUT_VALIGN));
 
-		paramInfos.addAll(super.getParamInfoList());// ֮ԴӸأǱԿǰ˳
+		paramInfos.addAll(super.getParamInfoList());// 之所以从父类最后加载，是保持子类的属性靠前的顺序
 		return paramInfos;
 	}
 
 	/**
-	 * ¡ͼԪֵ
+	 * 克隆柱图元的属性值
 	 * @param c
 	 */
 	public void clone(Column c){
@@ -338,8 +338,8 @@ public class Column extends Ring {
 	}
 	
 	/**
-	 * ȿ¡ͼԪ
-	 * @return ¡ͼԪ
+	 * 深度克隆柱图元
+	 * @return 克隆柱图元
 	 */
 	public Object deepClone() {
 		Column c = new Column();
@@ -8,35 +8,35 @@ import com.scudata.chart.edit.*;
 import com.scudata.dm.*;
 import com.scudata.util.*;
 /**
- * 
- * ΪDateᣬΪԣҲдɴ͵
+ * 日期轴
+ * 数据类型为Date的轴，为了易用性，数据也可以写成串类型的日期
  * @author Joancy
  *
  */
 public class DateAxis extends TickAxis {
-	// ԶСֵķΧ
+	// 自动计算最大小值的范围
 	public boolean autoCalcValueRange = true;
-	// ֵԣֵ
+	// 值轴属性，最大值
 	public Date endDate = GregorianCalendar.getInstance().getTime();
 
-	// ֵԣСֵ
+	// 值轴属性，最小值
 	public Date beginDate = endDate;
 
-	// ֵԣ̶ȵλ
+	// 值轴属性，刻度单位
 	public int scaleUnit = Consts.DATEUNIT_DAY;
 
-	// ֵԣ̶ʾʽ
+	// 值轴属性，刻度显示格式
 	public String format = "yyyy/MM/dd";
 
 	/**
-	 * ȱʡֵ캯
+	 * 缺省值构造函数
 	 */
 	public DateAxis() {
 	}
 
 	/**
-	 * ͼԪı༭Ϣб
-	 * @return Ϣб
+	 * 日期轴图元的编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -56,10 +56,10 @@ public class DateAxis extends TickAxis {
 	}
 
 	/**
-	 * ڰgetTime()ȡԼֵ͵ֵʵ
-	 * úҪڼԼֵľ
-	 * @param date Ϊֵڣߴ
-	 * @return ʵȵľֵ
+	 * 将日期按getTime()取整数，以及数值类型的值，返回实数
+	 * 该函数的作用主要用于计算日期以及数值的绝对区间
+	 * @param date 可以为数值，日期，或者串描述的日期类型
+	 * @return 实数精度的绝对值
 	 */
 	public static double getDoubleDate(Object date) {
 		if (date instanceof Number) {
@@ -78,14 +78,14 @@ public class DateAxis extends TickAxis {
 	}
 
 	/*
-	 * @return ObjectΪԭĳ ǼΪ᳤ ǽΪԽǶ
+	 * @return Object，结果为到轴原点的长度 如果是极轴则为极轴长度 如果是角轴则为绝对角度
 	 */
 	double getValueLength(Object val, boolean isAbsolute) {
 		double len = 0;
 		double axisLen = getAxisLength();
 		if (isAbsolute) {
 			len = ((Number) val).doubleValue();
-			long valMillSecs = (long) (len * 24 * 60 * 60 * 1000);// valתΪ
+			long valMillSecs = (long) (len * 24 * 60 * 60 * 1000);// 将val代表的天数转换为毫秒数
 			len = axisLen * (valMillSecs / (t_maxDate - t_minDate));
 		} else {
 			double tmp = getDoubleDate(val);
@@ -96,9 +96,9 @@ public class DateAxis extends TickAxis {
 	}
 
 	/**
-	 * ȡֵ
-	 * ͼԪĻƣһǴӻֵһ߶
-	 * @return Point 
+	 * 获取基值的坐标点
+	 * 对于柱图元的绘制，一般是从基值画到另一高度
+	 * @return Point 坐标点
 	 */
 	public Point2D getRootPoint() {
 		switch (location) {
@@ -113,10 +113,10 @@ public class DateAxis extends TickAxis {
 
 
 	/**
-	 * ȡvdֵȽϺֵ
-	 * @param v ֵ
-	 * @param d Ƚϵֵ
-	 * @return ֵ
+	 * 获取v跟序列d中所有值比较后的最大值
+	 * @param v 值序列
+	 * @param d 待比较的值
+	 * @return 最大值
 	 */
 	public static  double max(double v, Sequence d) {
 		Sequence al = (Sequence) d;
@@ -128,10 +128,10 @@ public class DateAxis extends TickAxis {
 	}
 
 	/**
-	 * ȡvdֵȽϺСֵ
-	 * @param v ֵ
-	 * @param d Ƚϵֵ
-	 * @return Сֵ
+	 * 获取v跟序列d中所有值比较后的最小值
+	 * @param v 值序列
+	 * @param d 待比较的值
+	 * @return 最小值
 	 */
 	public static double min(double v, Sequence d) {
 		Sequence al = (Sequence) d;
@@ -143,7 +143,7 @@ public class DateAxis extends TickAxis {
 	}
 
 	/**
-	 * ͼǰ׼
+	 * 绘图前的数据准备工作
 	 */
 	public void prepare(ArrayList<DataElement> dataElements) {
 		super.prepare(dataElements);
@@ -177,7 +177,7 @@ public class DateAxis extends TickAxis {
 		Date start = new Date((long)t_minDate);
 		Date end = new Date((long)t_maxDate);
 
-		// ڱǩtickѾtickStep˿̶ȣԲ̶ȺtickStepΪ1
+		// 日期标签tick已经按照tickStep过滤了刻度，所以产生刻度后，tickStep重置为1
 		createCoorValue(start, end, scaleUnit, displayStep, t_coorValue);
 		displayStep = 1;
 	}
@@ -321,7 +321,7 @@ public class DateAxis extends TickAxis {
 	}
 
 	/**
-	 * ÿػǰݵǰĳߴ磬ʱƲ
+	 * 每次重绘前根据当前画布的尺寸，计算相关临时绘制参数
 	 */
 	public void beforeDraw() {
 		switch (location) {
@@ -339,7 +339,7 @@ public class DateAxis extends TickAxis {
 	}
 
 	/**
-	 * Ƿö
+	 * 是否枚举轴
 	 * @return false
 	 */
 	public boolean isEnumAxis(){
@@ -347,7 +347,7 @@ public class DateAxis extends TickAxis {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否日期轴
 	 * @return true
 	 */
 	public boolean isDateAxis(){
@@ -355,7 +355,7 @@ public class DateAxis extends TickAxis {
 	}
 	
 	/**
-	 * Ƿֵ
+	 * 是否数值轴
 	 * @return false
 	 */
 	public boolean isNumericAxis(){
@@ -369,14 +369,14 @@ public class DateAxis extends TickAxis {
 		}
 	}
 	/**
-	 * ߼ֵvalתΪʱֵ
+	 * 将逻辑值val转换为时间轴数值
 	 */
 	public double animateDoubleValue(Object val){
 		return getDoubleDate( val );
 	}
 
-	// лͼصмtransient޶ָұt_Ϊǰ׺
-	// λ
+	// 所有绘制图形相关的中间计算变量都由transient限定词指出，并且变量名由t_作为前缀
+	// 数量单位
 	private transient double t_maxDate=0, t_minDate=Long.MAX_VALUE;
 	private transient int t_valueBaseLine = 0;
 }
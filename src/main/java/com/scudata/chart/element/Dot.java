@@ -7,8 +7,8 @@ import com.scudata.chart.*;
 import com.scudata.chart.edit.*;
 import com.scudata.common.*;
 /**
- * ͼԪ
- * ͼԪͨԱͼ
+ * 点图元
+ * 点图元通常可以表现气泡图
  * @author Joancy
  *
  */
@@ -18,34 +18,34 @@ public class Dot extends DataElement {
 	public Para lineWeight = new Para(new Float(1));
 	public Para lineColor = new Para(Consts.LEGEND_P_LINECOLOR);
 
-	public Para markerStyle = new Para(new Integer(Consts.PT_CIRCLE),Consts.LEGEND_P_MARKERSTYLE); // ״
-	public Para markerColor = new Para(Consts.LEGEND_P_FILLCOLOR); // ɫ߿ɫlineColor
+	public Para markerStyle = new Para(new Integer(Consts.PT_CIRCLE),Consts.LEGEND_P_MARKERSTYLE); // 点的形状
+	public Para markerColor = new Para(Consts.LEGEND_P_FILLCOLOR); // 点的填充颜色，边框颜色用lineColor
 
-	// radius12Ϊ0ʱ߻ĴֶȻ뾶,ð뾶ȱʡ0ֵΪԶlineWeight
-	// ֵС2Ҳа뾶ְܳ뾶Ϊ0Ҫõ״Ϊգøð뾶Ϊ0
+	// radius1或2为0时，线或点的粗度或半径,该半径缺省0值的意义为，自动跟随lineWeight调整，
+	// 调整过后的值不能小于2，也即总有半径，不能出现半径为0的情况，不画点需要设置点的形状为空，不能设置该半径为0
 	public Para markerWeight = new Para(0);
 
-	public Para radius1 = new Para(0);// 1ҵ뾶,ֵΪ㳤
-	public Para radius2 = new Para(0);// 2ҵ뾶,ֵΪ㳤
+	public Para radius1 = new Para(0);// 点在1轴的业务半径,值为轴计算长度
+	public Para radius2 = new Para(0);// 点在2轴的业务半径,值为轴计算长度
 
-	// ʾ
+	// 标示文字
 	public Para text = new Para(null);
-	public Para textFont = new Para();//""
+	public Para textFont = new Para();//"宋体"
 	public Para textStyle = new Para(new Integer(0));
 	public Para textSize = new Para(new Integer(12));
 	public Para textColor = new Para(Color.black);
 
-	// ͸
+	// 透明度
 	public float transparent = 1f;
 
-	// صʾ
+	// 文字重叠显示
 	public boolean textOverlapping = true;
 
-	// ǷӰ
+	// 是否有阴影
 	public boolean shadow = false;
 
 	/**
-	 * ȱʡĹ캯
+	 * 缺省参数的构造函数
 	 */
 	public Dot() {
 	}
@@ -55,8 +55,8 @@ public class Dot extends DataElement {
 	}
 
 	/**
-	 * ȡͼԪı༭Ϣб
-	 * @return Ϣб
+	 * 获取点图元的编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -89,7 +89,7 @@ public class Dot extends DataElement {
 		paramInfos.add(group, new ParamInfo("textSize", Consts.INPUT_FONTSIZE));
 		paramInfos.add(group, new ParamInfo("textColor", Consts.INPUT_COLOR));
 
-		// group = "";
+		// group = "链接";
 		// paramInfos.add(group,new ParamInfo("tip"));
 		// paramInfos.add(group,new ParamInfo("url"));
 		// paramInfos.add(group,new ParamInfo("target"));
@@ -99,7 +99,7 @@ public class Dot extends DataElement {
 	}
 
 	/**
-	 * Ʊ
+	 * 绘制背景层
 	 */
 	public void drawBack() {
 		if (!isVisible() || !shadow) {
@@ -109,7 +109,7 @@ public class Dot extends DataElement {
 	}
 
 	/**
-	 * м
+	 * 绘制中间层
 	 */
 	public void draw() {
 		if (!isVisible()) {
@@ -119,7 +119,7 @@ public class Dot extends DataElement {
 	}
 
 	/**
-	 * ǰ
+	 * 绘制前景层
 	 */
 	public void drawFore() {
 		if (!isVisible()) {
@@ -129,7 +129,7 @@ public class Dot extends DataElement {
 	}
 
 	private void drawStep(int step) {
-		// ݵ
+		// 数据点
 		int size = pointSize();
 		for (int i = 1; i <= size; i++) {
 			try {
@@ -140,7 +140,7 @@ public class Dot extends DataElement {
 					addLink(shape, htmlLink.stringValue(i), title,linkTarget.stringValue(i));
 				}
 			} catch (RuntimeException re) {
-				// 㲻ֻöķͼвöжķϵʱõ
+				// 点不分基于枚举轴的分类来绘图，当有不在枚举轴中定义的分类或者系列时，丢弃该点
 				if (re.getMessage().startsWith(NOT_IN_DEFINE)) {
 					continue;
 				}
@@ -150,8 +150,8 @@ public class Dot extends DataElement {
 	}
 
 	/*
-	 * ͼԪһݵ
-	 * ҪƵpꣻע⣬õֱϵһgetScreenPointȡϵʱgetPolarPoint
+	 * 画点图元的一个数据点
+	 * 要绘制点p的坐标；注意，该点在直角系一定用getScreenPoint获取，极坐标系时，得是getPolarPoint。
 	 */
 	protected Shape drawADot(int index, Point2D p, int step) {
 		ICoor coor = getCoor();
@@ -204,7 +204,7 @@ public class Dot extends DataElement {
 				}
 				double x = p.getX();
 				double y = p.getY();
-				// ݵϵıʾ
+				// 数据点上的标示文字
 				x = p.getX();
 				if (radiusy > 0) {
 					y = p.getY() - radiusy;
@@ -222,7 +222,7 @@ public class Dot extends DataElement {
 			}
 
 		} else {
-			// ϵ
+			// 极坐标系
 			PolarCoor pc = (PolarCoor) coor;
 			TickAxis ia = pc.getPolarAxis();
 			double radiusR, radiusA, val;
@@ -275,16 +275,16 @@ public class Dot extends DataElement {
 	}
 
 	/**
-	 * ͼԪǷ˽ɫ
-	 * @return нɫtrue򷵻false
+	 * 图元是否定义了渐变颜色
+	 * @return 如果有渐变色返回true，否则返回false
 	 */
 	public boolean hasGradientColor() {
 		return markerColor.hasGradientColor();
 	}
 	
 	/**
-	 * ǰֵ¡ͼԪd
-	 * @param d ͼԪʵ
+	 * 当前属性值克隆到点图元d
+	 * @param d 点图元实例
 	 */
 	public void clone(Dot d){
 		super.clone(d);
@@ -307,8 +307,8 @@ public class Dot extends DataElement {
 	}
 	
 	/**
-	 * ¡һͼԪ
-	 * @return ¡ĵͼԪ
+	 * 克隆一个点图元
+	 * @return 克隆后的点图元
 	 */
 	public Object deepClone() {
 		Dot d = new Dot();
@@ -9,29 +9,29 @@ import com.scudata.dm.*;
 
 import java.awt.Shape;
 /**
- * ö
- * öֵͨΪַҪϵʱӢĶŷָĴʾ
+ * 枚举轴
+ * 枚举轴的数值通常为字符串，且要表述分类跟系列时，采用英文逗号分隔的串表示
  * @author Joancy
  *
  */
 public class EnumAxis extends TickAxis {
 
-	// öԣöֵ,ϵеֵֻǴΪֵ¼ʽΪ "ֵ,ϵֵ"ȡķֱֵ
-	// ʹãparseValue.
+	// 枚举轴属性：枚举值,分类和系列的值都只能是串，因为数据值的录入格式为 "分类值,系列值"，从中提取的分类值直接
+	// 当串使用，不再parseValue.
 	public Sequence categories;
 	public Sequence series;
 
-	// ö϶ϵпռ
+	// 枚举轴间隙与系列宽度占比
 	public double gapRatio = 1.50;
 
 	/**
-	 * ȱʡö
+	 * 缺省参数构造的枚举轴
 	 */
 	public EnumAxis() {
 	}
 
 	/*
-	 * getPhyValue ݵĸʽΪ ,ϵ ϵλܱԣǶѵΣ
+	 * getPhyValue 数据的格式为 分类,系列 角轴的系列位置总被忽略，角轴总是堆的情形；
 	 */
 	double getValueLength(Object val, boolean isAbsolute) {
 		double len = 0;
@@ -46,32 +46,32 @@ public class EnumAxis extends TickAxis {
 				throw new RuntimeException(Dot.NOT_IN_DEFINE + ":" + cat);
 			double j = 0;
 			double serCount = t_serNum;
-			if (ser == null) { // ʱǷǩλ
-				j = serCount / 2f; // ǩλϵпȣ
+			if (ser == null) { // 此时计算的是分类标签的位置
+				j = serCount / 2f; // 标签位置相对于系列宽度，居中
 			} else {
 				int serIndex = series.firstIndexOf(ser);
 				if (serIndex == 0)
 					throw new RuntimeException(Dot.NOT_IN_DEFINE + ":" + ser);
-				j = (serIndex - 1) + 0.5; // λΪӶм䣬ټ
-											// 0.5ϵп
-											// ,ֻзʱͳһΪӵĶм
+				j = (serIndex - 1) + 0.5; // 位置为柱子顶部中间，所以再加
+											// 0.5个系列宽度
+											// ,跟只有分类时统一，点坐标为柱子的顶部中间点
 			}
 
 			switch (location) {
 			case Consts.AXIS_LOC_H:
 			case Consts.AXIS_LOC_V:
 			case Consts.AXIS_LOC_POLAR:
-				// ֱϵۻͬĸϵۼӣԼöʱ
+				// 对于直角坐标系，累积是相同分类的各系列累加，所以计算枚举坐标时都按分类来计算
 				len = catIndex * t_categorySpan
 						+ ((catIndex - 1) * serCount + j) * t_seriesWidth;// getLeftX()
 																			// +
 				break;
 			case Consts.AXIS_LOC_ANGLE:
-				// ֱϵۻͬĸϵۼӣԼöʱ
+				// 对于直角坐标系，累积是相同分类的各系列累加，所以计算枚举坐标时都按分类来计算
 				len = catIndex * t_categorySpan
 						+ ((catIndex - 1) * serCount + j) * t_seriesWidth;// getLeftX()
 				if(isCircleAngle()){
-//					᷶ΧԲʱһĿȣõһڼλ
+//					角轴范围是整圆时，减掉第一个分类的宽度，让第一个分类落在极轴位置
 					double tmp = t_categorySpan+ (serCount / 2f) * t_seriesWidth;
 					len -= tmp;
 				}
@@ -101,11 +101,11 @@ public class EnumAxis extends TickAxis {
 	}
 
 	/**
-	 * ͼǰ׼
+	 * 绘图前准备工作
 	 */
 	public void beforeDraw() {
 		double length = getAxisLength();
-		// ĽԲʱ׸βͬһ࣬ҪһGap
+		// 角轴的角域是圆时，首跟尾是同一个分类，要少一个分类Gap
 		if (location == Consts.AXIS_LOC_ANGLE && isCircleAngle()) {
 			t_seriesWidth = length
 					/ ((t_catNum * gapRatio) + t_catNum * t_serNum);
@@ -118,9 +118,9 @@ public class EnumAxis extends TickAxis {
 	}
 
 	/**
-	 * dataгȡз
-	 * @param data Ϸݴ
-	 * @return ɵ
+	 * 从数据序列data中抽取所有分类的名称
+	 * @param data 符合分类描述的数据串序列
+	 * @return 分类名构成的序列
 	 */
 	public static Sequence extractCatNames(Sequence data){
 		int dSize = data.length();
@@ -133,9 +133,9 @@ public class EnumAxis extends TickAxis {
 	}
 	
 	/**
-	 * dataгȡϵе
-	 * @param data Ϸϵݴ
-	 * @return ϵɵ
+	 * 从数据序列data中抽取所有系列的名称
+	 * @param data 符合分类系列描述的数据串序列
+	 * @return 系列名构成的序列
 	 */
 	public static Sequence extractSerNames(Sequence data){
 		int dSize = data.length();
@@ -148,9 +148,9 @@ public class EnumAxis extends TickAxis {
 	}
 	
 	/**
-	 * ͼǰ׼У
-	 * öӦͼԪݸʽΪ֣ 1 ֵ 2, ֵ,ϵֵ
-	 * @param dataElements ͼԪб
+	 * 绘图前准备工作，数据校验
+	 * 枚举轴对应的图元数据格式为两种： 1， 分类值； 2, 分类值,系列值
+	 * @param dataElements 数据图元列表
 	 */
 	public void prepare(ArrayList<DataElement> dataElements) {
 		super.prepare(dataElements);
@@ -205,7 +205,7 @@ public class EnumAxis extends TickAxis {
 					"Category value must be 'String' type,current value is: "+catVal+",  and it's type is: "
 							+ catVal.getClass().getName());
 		}
-		t_serNum = series.length() == 0 ? 1 : series.length();// ûϵʱϵĿΪ1
+		t_serNum = series.length() == 0 ? 1 : series.length();// 没有系列时，系列数目为1计算
 		if (series.length() > 0) {
 			Object serVal = series.get(1);
 			if (!(serVal instanceof String)) {
@@ -219,34 +219,34 @@ public class EnumAxis extends TickAxis {
 	}
 
 	/**
-	 * ȡͼԪƺӦӵĿռ״
+	 * 获取图元绘制后对应超链接的空间形状
 	 * 
-	 * @return Shape 壬null
+	 * @return Shape 无意义，返回null
 	 */
 	public Shape getShape() {
 		return null;
 	}
 
 	/**
-	 * ȡϵеĿȣλأΪ˷ֹͼԪʱ
-	 * ʹֵҲdoubleʵ
-	 * @return ϵп
+	 * 获取系列的宽度，单位像素，为了防止误差，图元计算时
+	 * 即使是像素值，也都采用double实数
+	 * @return 系列宽度
 	 */
 	public double getSeriesWidth() {
 		return t_seriesWidth;
 	}
 
-	// ööٸ
+	// 枚举轴的枚举个数
 	private transient int t_catNum = 0;
 
-	// ϵ
+	// 轴上系列数
 	private transient int t_serNum = 1;
 
 	private transient double t_categorySpan = 190, t_seriesWidth = 0;
 
 	/**
-	 * ȡ༭Ϣб
-	 * @return Ϣб
+	 * 获取编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -266,7 +266,7 @@ public class EnumAxis extends TickAxis {
 
 	
 	/**
-	 * Ƿö
+	 * 是否枚举轴
 	 * @return true
 	 */
 	public boolean isEnumAxis() {
@@ -274,7 +274,7 @@ public class EnumAxis extends TickAxis {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否日期轴
 	 * @return false
 	 */
 	public boolean isDateAxis() {
@@ -282,7 +282,7 @@ public class EnumAxis extends TickAxis {
 	}
 
 	/**
-	 * Ƿֵ
+	 * 是否数值轴
 	 * @return false
 	 */
 	public boolean isNumericAxis() {
@@ -13,14 +13,14 @@ import java.awt.*;
 import java.awt.geom.*;
 
 /**
- * ͼͼԪ
+ * 图例图元
  * @author Joancy
  *
  */
 public class Legend extends LinkElement implements IMapAxis{
-	// 
+	// 轴名称
 	public String name;
-	// ,С1ʾ1ʾ
+	// 物理坐标,小于1表示比例，大于1表示像素
 	public double x = 0.82;
 	public double y = 0.2;
 	public double width = 0;
@@ -35,22 +35,22 @@ public class Legend extends LinkElement implements IMapAxis{
 	public int borderWeight = 1;
 	public Color borderColor = Color.black;
 
-	// ͼ
+	// 图例文字
 	public Para legendText=new Para();
 
-	// 
-	public String textFont;// = "";
+	// 文字字体
+	public String textFont;// = "宋体";
 
-	// ɫ
+	// 文字颜色
 	public Color textColor = Color.black;
 
-	// 
+	// 文字字型
 	public int textStyle;
 
-	// ֺ
+	// 文字字号
 	public int textSize = 12;
 
-	// ͼ
+	// 图例的列数
 	public int columns = 1;
 
 	public Para legendType = new Para(new Integer(Consts.LEGEND_RECT));
@@ -65,31 +65,31 @@ public class Legend extends LinkElement implements IMapAxis{
 
 
 	/**
-	 * ͼǰ׼
-	 * ǰ
+	 * 绘图前准备
+	 * 当前忽略
 	 */
 	public void beforeDraw() {
 	}
 
 	/**
-	 * ȡͼı
-	 * ͼȱʡãʱӵǰͼԪҳͼԶ
-	 * @return ͼı
+	 * 获取图例的文本序列
+	 * 允许图例文字缺省不设置，此时从当前图元中找出图例，由引擎自动设置
+	 * @return 图例的文本序列
 	 */
 	public Sequence getLegendText(){
 		return legendText.sequenceValue();
 	}
 	
 	/**
-	 * ͼı
-	 * @param seq ı
+	 * 设置图例的文本
+	 * @param seq 文本序列
 	 */
 	public void setLegendText(Sequence seq){
 		this.legendText.setValue(seq);
 	}
 	
 	/**
-	 * Ʊ
+	 * 绘制背景层
 	 */
 	public void drawBack() {
 		if (!isVisible()) {
@@ -116,7 +116,7 @@ public class Legend extends LinkElement implements IMapAxis{
 	}
 
 	/**
-	 * м
+	 * 绘制中间层
 	 */
 	public void draw() {
 		if (!isVisible()) {
@@ -236,7 +236,7 @@ public class Legend extends LinkElement implements IMapAxis{
 	}
 
 	/**
-	 * ǰ㣬ͼƲ֣ (߿+GAP++ͼ+GAP) = columnWidth
+	 * 绘制前景层，图例绘制布局： (左边框+GAP+文字+图例+GAP) = columnWidth
 	 */
 	public void drawFore() {
 		drawLegend(true);
@@ -261,7 +261,7 @@ public class Legend extends LinkElement implements IMapAxis{
 		Font font = Utils.getFont(textFont, textStyle, textSize);
 		Graphics2D g = e.getGraphics();
 		FontMetrics fm = g.getFontMetrics(font);
-		char aChar = '';
+		char aChar = '国';
 		int textHeight = fm.getHeight();
 		int aCharWidth = fm.charWidth(aChar);
 		double textWidth = columnWidth - 2 * edgeIndent - iconWidth;
@@ -278,7 +278,7 @@ public class Legend extends LinkElement implements IMapAxis{
 				String text = legendText(index);
 				double xx = px + columnWidth * c;
 				ArrayList wrapText;
-				if (textWidth < aCharWidth) { // ֵĿȲһַʱ
+				if (textWidth < aCharWidth) { // 留给文字的宽度不够一个字符时，不画文字
 					wrapText = new ArrayList();
 				} else {
 					wrapText = StringUtils.wrapString(text, fm,
@@ -299,16 +299,16 @@ public class Legend extends LinkElement implements IMapAxis{
 	}
 
 	/**
-	 * ȡ
-	 * @return ͼ
+	 * 获取引擎
+	 * @return 绘图引擎
 	 */
 	public Engine getEngine() {
 		return e;
 	}
 
 	/**
-	 * ȡ༭Ϣб
-	 * @return ParamInfoList Ϣб
+	 * 获取编辑参数信息列表
+	 * @return ParamInfoList 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -343,7 +343,7 @@ public class Legend extends LinkElement implements IMapAxis{
 		paramInfos.add(group, new ParamInfo("textSize", Consts.INPUT_FONTSIZE));
 		paramInfos.add(group, new ParamInfo("textColor", Consts.INPUT_COLOR));
 
-		group = "Legend";// ͼͼԪͳһΪдͷԴļΪСд
+		group = "Legend";// 跟图例图元统一命名为大写开头，资源文件为大小写敏感
 		paramInfos.add(group, new ParamInfo("legendType",
 				Consts.INPUT_LEGENDICON));
 		paramInfos.add(group, new ParamInfo("legendLineStyle",
@@ -362,16 +362,16 @@ public class Legend extends LinkElement implements IMapAxis{
 	}
 
 	/**
-	 * ͼǷɼ
-	 * @return boolean ɼtrue򷵻false
+	 * 图例是否可见
+	 * @return boolean 可见返回true，否则返回false
 	 */
 	public boolean isVisible() {
 		return visible;
 	}
 
 	/**
-	 * ûͼ
-	 * @param e ͼ
+	 * 设置绘图引擎
+	 * @param e 绘图引擎
 	 */
 	public void setEngine(Engine e) {
 		this.e = e;
@@ -379,19 +379,19 @@ public class Legend extends LinkElement implements IMapAxis{
 	}
 
 	/**
-	 * ͼ
+	 * 返回图例名称
 	 */
 	public String getName() {
 		return name;
 	}
 
 	/**
-	 * ȡ߼ֵvalӳmapPropertyϵӳֵ
-	 * @param val ߼ֵ
-	 * @param mapProperty ӳԣĿǰ֧ԣ
-	 * Consts.LEGEND_P_FILLCOLOR: ɫ
-	 * Consts.LEGEND_P_LINECOLOR: ߿ɫ
-	 * Consts.LEGEND_P_MARKERSTYLE: 
+	 * 获取逻辑值val在映射属性mapProperty上的映射属性值
+	 * @param val 逻辑数据值
+	 * @param mapProperty 映射属性，目前仅支持三种属性：
+	 * Consts.LEGEND_P_FILLCOLOR: 填充颜色
+	 * Consts.LEGEND_P_LINECOLOR: 边框或者折线颜色
+	 * Consts.LEGEND_P_MARKERSTYLE: 点风格
 	 */
 	public Object getMapValue(Object val, byte mapProperty) {
 		if(legendText==null){
@@ -10,48 +10,48 @@ import com.scudata.chart.resources.ChartMessage;
 import com.scudata.common.MessageManager;
 import com.scudata.dm.*;
 /**
- * ͼԪ
- * ͼԪɱͼҲcloseAreaΪͼ
+ * 线图元
+ * 线图元仅可表现折线图，也可配合属性closeArea表现为区域图
  * @author Joancy
  *
  */
 public class Line extends Dot {
-	// **β
+	// **首尾相连
 	public boolean endToHead = false;
 
-	// ߻תķ
+	// 填充跟坐标轴或者回转的封闭区域
 	public boolean closedArea = false;
-	public Para areaColor = new Para(null); // ɫ
+	public Para areaColor = new Para(null); // 区域填充颜色
 
-	// ѻֱ߻
+	// 堆积的直线或区域
 	public int stackType = Consts.STACK_NONE;
 
-	// 㶼ӵһ
+	// 后续点都从第一点放射连接
 	public boolean radiateLine = false;
 
-	// ڵ㶼ʹý
+	// 相邻点都使用阶梯线连接
 	public boolean stairLine = false;
 
-	// ͷ̶
+	// 箭头，固定长度
 	public int arrow = Consts.LINE_ARROW_NONE;
 
 	/**
-	 * ȱʡĹ캯
+	 * 缺省参数的构造函数
 	 */
 	public Line() {
 	}
 
 	/**
-	 * Ƿѻ
-	 * @return Ƿtruefalse
+	 * 是否堆积类型
+	 * @return 如果是返回true，否则false
 	 */
 	public boolean isStacked() {
 		return stackType > Consts.STACK_NONE;
 	}
 
 	/**
-	 * ȡ༭õĲϢб
-	 * @return Ϣб
+	 * 获取编辑用的参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -69,14 +69,14 @@ public class Line extends Dot {
 		ParamInfoList superPF = super.getParamInfoList();
 		MessageManager mm = ChartMessage.get();
 		String groupName = mm.getMessage("point");
-		superPF.getParams(groupName).add(2,arrowPI);//ŵһ
+		superPF.getParams(groupName).add(2,arrowPI);//放到线形一起
 		
 		paramInfos.addAll( superPF );
 		return paramInfos;
 	}
 
 	/**
-	 * Ʊ
+	 * 绘制背景层
 	 */
 	public void drawBack() {
 		if (!isVisible() || !shadow) {
@@ -86,7 +86,7 @@ public class Line extends Dot {
 	}
 
 	/**
-	 * м
+	 * 绘制中间层
 	 */
 	public void draw() {
 		if (!isVisible()) {
@@ -110,7 +110,7 @@ public class Line extends Dot {
 		Graphics2D g = e.getGraphics();
 		ICoor coor = getCoor();
 		Shape shape;
-		if (stairLine) {// ʱ֮Ľݵ
+		if (stairLine) {// 阶梯线时，增加两点之间的阶梯点
 			ArrayList<Point2D> stairPoints = new ArrayList<Point2D>();
 			Point2D last = linePoints.get(0);
 			for (int i = 1; i < linePoints.size(); i++) {
@@ -124,8 +124,8 @@ public class Line extends Dot {
 			linePoints = stairPoints;
 		}
 		if (closedArea) {
-			// || stairLine , ߵķֻܸգҲҪ㣻
-			if (!endToHead || stairLine) {// תʱҪӸʼͽ
+			// || stairLine , 阶梯线的封闭区域只能跟坐标封闭，也即要添加下述点；
+			if (!endToHead || stairLine) {// 不回转时，需要添加跟坐标轴的起始和结束基点
 				if (isPhysicalCoor() || coor.isCartesianCoor()) {
 					Point2D p1 = linePoints.get(0);
 					Point2D pL = linePoints.get(linePoints.size() - 1);// Point
@@ -138,17 +138,17 @@ public class Line extends Dot {
 					else{
 						TickAxis ta1 = coor.getAxis1();
 						Point2D pb = ta1.getBasePoint(coor);
-						if (ta1.getLocation() == Consts.AXIS_LOC_H) {// ʱ
+						if (ta1.getLocation() == Consts.AXIS_LOC_H) {// 垂向横轴时
 							p0 = new Point2D.Double(p1.getX(), pb.getY());
 							pe = new Point2D.Double(pL.getX(), pb.getY());
-						} else {// 
+						} else {// 垂向纵轴
 							p0 = new Point2D.Double(pb.getX(), p1.getY());
 							pe = new Point2D.Double(pb.getX(), pL.getY());
 						}
 					}
 					linePoints.add(0, p0);
 					linePoints.add(pe);
-				} else {// ϵԼԭΪ
+				} else {// 极坐标系总是以极轴原点为基点
 					PolarCoor pc = (PolarCoor) coor;
 					TickAxis ta = pc.getPolarAxis();
 					linePoints.add(ta.getBasePoint(coor));
@@ -159,14 +159,14 @@ public class Line extends Dot {
 			if(Utils.setPaint(g, rect.x, rect.y, rect.width, rect.height, areaCcr)){
 				Utils.fillPaint(g, shape, transparent);
 			}
-//			shapeȻֱӻshape
+//			包含封闭区域的shape仍然保留直接画shape
 			if (Utils.setStroke(g, bc, style, weight)) {
 				g.draw(shape);
 			}
-		} else {// 䣬
+		} else {// 不填充，画折线
 //			shape = Utils.getPath2D(linePoints, false);
-//			ֱʹPath2Dʱĳּ£߶ͬһбϣر࣬Ŀǰ300ϣֻƵshapeẹ̈Ȼм
-//			ĪĺߣĻߴͷʼһζλ  20191129
+//			直线使用Path2D时，某种极限情况下，线都在同一条斜线上，且线特别多，目前测试300段以上，会出现绘制的shape毛刺，然后中间多出
+//			莫名其妙的横线，改回折线从头开始一段段画  2019年11月29日
 			if (Utils.setStroke(g, bc, style, weight)) {
 //				g.draw(shape);
 				Point2D last = linePoints.get(0);
@@ -217,8 +217,8 @@ public class Line extends Dot {
 		case 2:
 			if (stairLine) {
 				drawStep2(index, linePoints);
-			} else if (radiateLine) {// ˴ܵΪif(radiateLine)
-										// elseṹstairLineȻ
+			} else if (radiateLine) {// 此处不能调整为if(radiateLine)
+										// else结构，得stairLine优先画
 				if (Utils.setStroke(g, bc, style, weight)) {
 					last = linePoints.get(0);
 					for (int i = 1; i < linePoints.size(); i++) {
@@ -235,20 +235,20 @@ public class Line extends Dot {
 		}
 	}
 
-	// ֱϵΪö߼ϵĽΪöʱԶѻ
+	// 直角系垂向轴为枚举轴或者极坐标系的角轴为枚举轴时，可以堆积
 	private void drawEnumBasedLine(int step) {
 		ICoor coor = getCoor();
-		EnumAxis ea = (EnumAxis) coor.getAxis1();// ֻ1Ϊööٻ
+		EnumAxis ea = (EnumAxis) coor.getAxis1();// 只有1轴为枚举轴才是枚举基础绘制
 		Sequence enumData = getAxisData(ea.getName());
 
 		int catCount = categories.length();//ea.
 		int serCount = series.length();
 		if (serCount == 0) {
 			ArrayList<Point2D> linePoints = new ArrayList<Point2D>();
-			for (int c = 1; c <= catCount; c++) { // ໭
+			for (int c = 1; c <= catCount; c++) { // 挨个分类画柱子
 				String catName = (String) categories.get(c);
 				int index = Utils.indexOf(enumData, catName, null);
-				if (index == 0) { // ĳϵеֵȱ
+				if (index == 0) { // 某个分类和系列的数值缺少
 					continue;
 				}
 				Object val1 = data1.get(index);
@@ -277,7 +277,7 @@ public class Line extends Dot {
 				for (int s = 1; s <= serCount; s++) {
 					String serName = (String) series.get(s);
 					index = Utils.indexOf(enumData, catName, serName);
-					if (index == 0) { // ĳϵеֵȱ
+					if (index == 0) { // 某个分类和系列的数值缺少
 						continue;
 					}
 					Object val1 = Column.discardSeries(data1.get(index));
@@ -327,7 +327,7 @@ public class Line extends Dot {
 				for (int s = 1; s <= serCount; s++) {
 					String serName = (String) series.get(s);
 					index = Utils.indexOf(enumData, catName, serName);
-					if (index == 0) { // ĳϵеֵȱ
+					if (index == 0) { // 某个分类和系列的数值缺少
 						continue;
 					}
 					Object val1 = Column.discardSeries(data1.get(index));
@@ -364,7 +364,7 @@ public class Line extends Dot {
 	}
 
 	private void drawDots(int step, boolean discardSeries) {
-		// öߣֻö꣬߻ƣҪס
+		// 枚举轴的折线，都只按分类计算枚举轴的坐标，点后于折线绘制，点要盖住线
 		int size = pointSize();
 		
 		for (int i = 1; i <= size; i++) {
@@ -379,9 +379,9 @@ public class Line extends Dot {
 
 	private void drawStep(int step) {
 		ICoor coor = getCoor();
-		if (coor!=null && coor.isEnumBased()) {// öֱߣҪϵнݲֳɶ
+		if (coor!=null && coor.isEnumBased()) {// 枚举轴基础的直线，要根据系列将数据拆分成多根线
 			drawEnumBasedLine(step);
-		} else {// һ
+		} else {// 否则就是一根线
 			ArrayList<Point2D> linePoints = new ArrayList<Point2D>();
 			int size = pointSize();
 			for (int i = 1; i <= size; i++) {
@@ -394,7 +394,7 @@ public class Line extends Dot {
 	}
 
 	/**
-	 * ǰ
+	 * 绘制前景层
 	 */
 	public void drawFore() {
 		if (!isVisible()) {
@@ -404,7 +404,7 @@ public class Line extends Dot {
 	}
 
 	/**
-	 * ͼǰ׼
+	 * 绘图前的数据准备
 	 */
 	public void prepare() {
 		super.prepare();
@@ -412,8 +412,8 @@ public class Line extends Dot {
 	}
 
 	/**
-	 * ¡ͼԪԵl
-	 * @param l ͼԪ
+	 * 克隆线图元的属性到l
+	 * @param l 线图元
 	 */
 	public void clone(Line l){
 		super.clone(l);
@@ -427,8 +427,8 @@ public class Line extends Dot {
 	}
 	
 	/**
-	 * ȿ¡һͼԪ
-	 * @return ¡õͼԪ
+	 * 深度克隆一个线图元
+	 * @return 克隆好的线图元对象
 	 */
 	public Object deepClone() {
 		Line l = new Line();
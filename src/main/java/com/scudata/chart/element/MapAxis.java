@@ -8,17 +8,17 @@ import com.scudata.dm.*;
 
 import java.awt.Shape;
 
-//ӳᣬֻΪ߼ֵֵһӳ䣬ʵʻͼ
+//映射轴，只作为逻辑值到物理值的一个映射，不实际绘图
 public class MapAxis extends ObjectElement implements IMapAxis{
-	// 
+	// 轴名称
 	public String name;
-	// ߼ֵ
+	// 逻辑值序列
 	public Sequence logicalData;
 
-	// ֵͼĿǰ֧ɫ͡
+	// 物理值，图例轴目前可支持颜色、点型、线型
 	public Sequence physicalData;
 
-//	ӳݱӳ
+//	映射轴废弃，兼容保留，不关心映射属性
 	public Object getMapValue(Object val,byte mapProperty){
 		return getPhyValue(val);
 	}
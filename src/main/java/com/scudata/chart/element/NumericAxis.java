@@ -15,70 +15,70 @@ import com.scudata.dm.*;
 import com.scudata.util.Variant;
 
 /**
- * ֵ
+ * 数值轴
  * @author Joancy
  *
  */
 public class NumericAxis extends TickAxis {
-	// ԶСֵķΧ
+	// 自动计算最大小值的范围
 	public boolean autoCalcValueRange = true;
-	// ԶΧʱ0ʼֵ
+	// 自动范围时从0起始值
 	public boolean autoRangeFromZero = true;
 
-	// ֵԣֵ
+	// 值轴属性，最大值
 	public double maxValue = 10;
 
-	// ֵԣСֵ
+	// 值轴属性，最小值
 	public double minValue = 0;
 
-	// ֵԣ̶
+	// 值轴属性，刻度数
 	public int scaleNum = 5;
 
-	// ֵԣ̶ʾʽ
+	// 值轴属性，刻度显示格式
 	public String format = "#.##";
 
-	// λ
-	public String unitFont;// = "";
+	// 单位字体
+	public String unitFont;// = "宋体";
 
-	// ɫ
+	// 颜色
 	public Color unitColor = Color.blue.darker();
 
-	// ʽ
+	// 样式
 	public int unitStyle;
 
-	// ת
+	// 旋转
 	public int unitAngle = 0;
 
-	// С
+	// 大小
 	public int unitSize = 12;
 
-	// 任
-	public int transform = 0; // 0ޱ任123ָConstsж峣
+	// 变换
+	public int transform = 0; // 0无变换，1比例，2对数，3指数（在Consts中定义常数）
 
-	// Ǳ任߶, 1:scale
+	// 如果是比例变换，比例尺度, 1:scale
 	public double scale = 1;
 
-	// Ƕ任ĵ
+	// 如果是对数变换，对数的底数
 	public double logBase = 10;
 
-	// ָ任ָĵ
+	// 如果是指数变换，指数的底数
 	public double powerExponent = Math.E;
 
-	/* ߶ */
+	/* 警戒线定义 */
 	public Para warnLineStyle = new Para(new Integer(Consts.LINE_DASHED));
 	public Para warnLineWeight = new Para(new Float(1));
 	public Para warnLineColor = new Para(Color.red);
 	public Sequence warnLineData = null;
 
 	/**
-	 * ȱʡ캯
+	 * 缺省参数构造函数
 	 */
 	public NumericAxis() {
 	}
 
 	/**
-	 * ȡ༭Ϣб
-	 * @return Ϣб
+	 * 获取编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -125,9 +125,9 @@ public class NumericAxis extends TickAxis {
 	}
 	
 	/**
-	 * ȡݵʵֵıд
-	 * @param val ֵ
-	 * @return Ӧʵ
+	 * 获取数据的实数值，兼容文本串写法
+	 * @param val 数据值
+	 * @return 对应的实数
 	 */
 	public double getNumber(Object val){
 		double tmp;
@@ -155,7 +155,7 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/*
-	 * ̶ֵƽ䣬Ҹλй
+	 * 刻度值总是轴上平均分配，且跟轴的位置有关
 	 */
 	protected double getTickPosition(Object tickVal) {
 		double val = ((Number) tickVal).doubleValue();
@@ -180,8 +180,8 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * ȡֵ
-	 * @return Point 
+	 * 获取基值的坐标点
+	 * @return Point 坐标点
 	 */
 	public Point2D getBasePoint() {
 		switch (location) {
@@ -195,9 +195,9 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * ȡӵ״
+	 * 获取超链接的形状区域
 	 * 
-	 * @return Shape 壬null
+	 * @return Shape 无意义，返回null
 	 */
 	public Shape getShape() {
 		return null;
@@ -236,11 +236,11 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * ͼǰ׼
+	 * 绘图前的数据准备
 	 */
 	public void prepare(ArrayList<DataElement> dataElements) {
 		super.prepare(dataElements);
-		// һֵϵͼԪвͬĶѻʱȡĶѻΪ
+		// 当一数值轴上的图元有不同的堆积类型时，取最大的堆积类型为公共类型
 		int stackType = Consts.STACK_NONE;
 		for (int i = 0; i < dataElements.size(); i++) {
 			DataElement de = dataElements.get(i);
@@ -271,7 +271,7 @@ public class NumericAxis extends TickAxis {
 				break;
 		}
 
-		// ҲԶ
+		// 角轴也不能自动计算
 		if (autoCalcValueRange){
 			maxValue = Double.NEGATIVE_INFINITY;
 			for (int i = 0; i < dataElements.size(); i++) {
@@ -284,7 +284,7 @@ public class NumericAxis extends TickAxis {
 				Object data;
 				if (de instanceof Column) {
 					Column co = (Column) de;
-					co.stackType = stackType;// µͼԪĶѻ
+					co.stackType = stackType;// 重新调整图元的堆积类型
 					data = Column.getMaxValue(de, name);
 				} else if (de instanceof Line) {
 					Line li = (Line) de;
@@ -292,7 +292,7 @@ public class NumericAxis extends TickAxis {
 					data = Column.getMaxValue(de, name);
 				} else if (de instanceof Sector) {
 					Sector se = (Sector) de;
-					se.stackType = stackType;// µͼԪĶѻ
+					se.stackType = stackType;// 重新调整图元的堆积类型
 					data = Column.getMaxValue(de, name);
 				} else {
 					data = de.getAxisData(name);
@@ -317,12 +317,12 @@ public class NumericAxis extends TickAxis {
 			double absMax = Math
 					.max(Math.abs(t_maxValue), Math.abs(t_minValue));
 			double tmpScale = 1;
-			while (absMax < scaleNum) { // ȥС
+			while (absMax < scaleNum) { // 去掉小数
 				tmpScale *= 0.1;
 				absMax *= 10;
 			}
 			absMax = Math.ceil(absMax);
-			if (scaleNum < 1) {// ̶ĿС1ʱԶһպóֵĿ
+			if (scaleNum < 1) {// 刻度数目小于1时，自动计算出一个刚好除尽最大值的数目
 				int tmp = 5;
 				double leave = absMax % tmp;
 				while (leave > 0) {
@@ -334,20 +334,20 @@ public class NumericAxis extends TickAxis {
 
 				double delta = 0;
 				if (stackType == Consts.STACK_NONE){
-//					ֵͷıǩ10%ֵֹպ
-					delta = (t_maxValue - t_minValue)*0.1; // ֵ϶
+//					否则仅让数值两头的标签增加10%，防止极值刚好落在坐标轴
+					delta = (t_maxValue - t_minValue)*0.1; // 留出极值缝隙
 				}
-				if (t_minValue >= 0) { // ȫΪ
+				if (t_minValue >= 0) { // 全为正数
 					t_maxValue += delta;
 					if(t_minValue>0){
 						t_minValue -= delta;	
 					}
-				} else if (t_maxValue <= 0) { // ȫΪ
+				} else if (t_maxValue <= 0) { // 全为负数
 					t_minValue -= delta;
 					if(t_maxValue<0){
 						t_maxValue += delta;	
 					}
-				} else { // и
+				} else { // 有正有负
 					t_maxValue += delta;
 					t_minValue -= delta;
 				}
@@ -366,14 +366,14 @@ public class NumericAxis extends TickAxis {
 			}
 			break;
 		case Consts.TRANSFORM_LOG:
-			// ָѾʹԭֵΪֵдϱ任λ
+			// 对数和指数都已经使用原值作为坐标值，不必再写上变换单位
 			break;
 		case Consts.TRANSFORM_EXP:
 			break;
 		}
 
 		if (!(autoCalcValueRange || stackType > Consts.STACK_NONE)) {
-			// Զѻͼ߽ᣬûֵ
+			// 自动计算或堆积图或者角轴，才能设置基值
 			t_baseValue = t_minValue;
 		}
 
@@ -381,10 +381,10 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * 
-	 * @param base 
-	 * @param d ֵ
-	 * @return ֵ
+	 * 求对数
+	 * @param base 底
+	 * @param d 数值
+	 * @return 对数值
 	 */
 	public static double log(double base, double d) {
 		if (base < 0 || d <= 0 || base == 1) {
@@ -394,10 +394,10 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * ָ
-	 * @param base 
-	 * @param exp ָ
-	 * @return ֵָ
+	 * 求指数
+	 * @param base 底
+	 * @param exp 指数
+	 * @return 指数值
 	 */
 	public static double power(double base, double exp) {
 		if (base < 0 || exp < 0 || base == 1) {
@@ -407,7 +407,7 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/*
-	 * ָ任ʱ굥λԭ
+	 * 对数和指数变换时，把坐标单位还原
 	 */
 	private double recoverTickValue(double value) {
 		switch (transform) {
@@ -436,22 +436,22 @@ public class NumericAxis extends TickAxis {
 
 	private void createCoorValue() {
 		double tmp, delta;
-		if (t_minValue >= 0.0 || t_maxValue <= 0) { // ************************************ȫΪȫΪ
+		if (t_minValue >= 0.0 || t_maxValue <= 0) { // ************************************全为正数或者全为负数
 			double dCoor = (t_maxValue - t_minValue) / scaleNum;
 			delta = Math.ceil(dCoor);
 			double cha = delta - dCoor;
-			boolean isLeagalRange = cha <= dCoor * 0.2;// ֵܳԭֵ20%;
+			boolean isLeagalRange = cha <= dCoor * 0.2;// 调整后的最大值不能超过原值的20%;
 
-			if (autoCalcValueRange && isLeagalRange) {// ֵķΧ1һֵ //t_maxValue-t_minValue > 1
+			if (autoCalcValueRange && isLeagalRange) {// 值的范围超过1的做一下最大值调整 //t_maxValue-t_minValue > 1
 								// && delta - dCoor<dCoor
-				t_maxValue = Math.ceil(t_maxValue);// ȡ
+				t_maxValue = Math.ceil(t_maxValue);// 取整
 				t_minValue = Math.floor(t_minValue);
-				delta = Math.ceil((t_maxValue - t_minValue) / scaleNum);// ֵȡ
+				delta = Math.ceil((t_maxValue - t_minValue) / scaleNum);// 间隔数值取整
 				for (int i = 0; i <= scaleNum; i++) {
 					tmp = t_minValue + i * delta;
 					t_coorValue.add(new Double(tmp));
 				}
-				t_maxValue = t_minValue + scaleNum * delta;// ֵ
+				t_maxValue = t_minValue + scaleNum * delta;// 重新设置最大值
 			} else {
 				delta = (t_maxValue - t_minValue) / scaleNum;
 				for (int i = 0; i <= scaleNum; i++) {
@@ -459,7 +459,7 @@ public class NumericAxis extends TickAxis {
 					t_coorValue.add(new Double(tmp));
 				}
 			}
-		} else { // ************************************и
+		} else { // ************************************有正有负
 			double absMax = t_maxValue;
 			double absMin = Math.abs(t_minValue);
 			delta = Math.max(absMax, absMin) / scaleNum;
@@ -501,11 +501,11 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * 趨ݷΧ
-	 * ͼǸͼΣͼĹУҪݲͬදֵ̬Χ
-	 * ʱѾû壬һ£ϵҲûлıҪ
-	 * @param max ֵ
-	 * @param min Сֵ
+	 * 设定轴的数据范围
+	 * 饼图是个特殊图形，计算饼图的过程中，要根据不同分类动态设置值域范围
+	 * 此时的坐标已经没有意义，一般情况下，坐标系也没有画出来的必要
+	 * @param max 最大值
+	 * @param min 最小值
 	 */
 	public void setValueRange(double max, double min) {
 		t_maxValue = max;
@@ -513,7 +513,7 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * ͼǰ׼
+	 * 画图前的数据准备工作
 	 */
 	public void beforeDraw() {
 		double length = getAxisLength();
@@ -539,7 +539,7 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * ǰ
+	 * 绘制前景层
 	 */
 	public void drawFore() {
 		if (!isVisible()) {
@@ -571,7 +571,7 @@ public class NumericAxis extends TickAxis {
 					unitAngle, Consts.LOCATION_CB, true);
 			break;
 		case Consts.AXIS_LOC_ANGLE:
-			// ᲻
+			// 角轴不绘制
 			break;
 		}
 
@@ -624,7 +624,7 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * м
+	 * 绘制中间层
 	 */
 	public void draw() {
 		super.draw();
@@ -702,7 +702,7 @@ public class NumericAxis extends TickAxis {
 				}
 				TickAxis angleAxis = (TickAxis) pc.getAngleAxis();
 				Point2D orginalPoint = new Point2D.Double(getLeftX(),
-						getBottomY()); // ԭ
+						getBottomY()); // 原点
 				for (int t = 1; t <= tCount; t++) {
 					Object tickVal = warnLineData(t);
 					ArrayList<Point2D> points = new ArrayList<Point2D>();
@@ -720,7 +720,7 @@ public class NumericAxis extends TickAxis {
 							points.add(pc.getScreenPoint(polarPoint));
 						}
 						warnShape = Utils.getPath2D(points, isCircleAngle());
-					} else { // 
+					} else { // 扇形
 						double w, h, tmpLen;
 						tmpLen = x - orginalPoint.getX();
 						x = orginalPoint.getX() - tmpLen;
@@ -749,14 +749,14 @@ public class NumericAxis extends TickAxis {
 				}
 				TickAxis polarAxis = (TickAxis) pc.getPolarAxis();
 				Point2D orginalPoint = new Point2D.Double(polarAxis.getLeftX(),
-						polarAxis.getBottomY()); // ԭ
+						polarAxis.getBottomY()); // 原点
 				double polarLen = polarAxis.getAxisLength();
 				for (int t = 1; t <= tCount; t++) {
 					Object tickVal = warnLineData(t);
 					double angle = getValueLen(tickVal);
 
 					if (isPolygonalRegion) {
-					} else { // 
+					} else { // 扇形
 					}
 					p = new Point2D.Double(polarLen, angle);
 					warnShape = new Line2D.Double(orginalPoint,
@@ -770,7 +770,7 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * Ƿö
+	 * 是否枚举轴
 	 * @return false
 	 */
 	public boolean isEnumAxis() {
@@ -778,7 +778,7 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否日期轴
 	 * @return false
 	 */
 	public boolean isDateAxis() {
@@ -786,20 +786,20 @@ public class NumericAxis extends TickAxis {
 	}
 
 	/**
-	 * Ƿֵ
+	 * 是否数值轴
 	 * @return true
 	 */
 	public boolean isNumericAxis() {
 		return true;
 	}
 
-	// лͼصмtransient޶ָұt_Ϊǰ׺
+	// 所有绘制图形相关的中间计算变量都由transient限定词指出，并且变量名由t_作为前缀
 	private transient double t_maxValue=Double.MIN_VALUE, t_minValue=Double.MAX_VALUE;
 
-	// ֵ,ͨΪ0ûָСֵֵΪСֵ
+	// 基值,通常为0；如果用户指定了最小值，则基值为最小值
 	private transient double t_baseValue = 0;
 	private transient int t_baseValueLine = 0;
-	// λ˵
+	// 单位说明
 	private transient String t_unitText = "";
 
 	public static void main(String[] args) {
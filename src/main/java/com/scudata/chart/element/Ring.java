@@ -9,66 +9,66 @@ import com.scudata.common.*;
 import com.scudata.dm.*;
 
 /**
- * ȵĻ࣬
+ * 柱和扇的基类，环
  * @author Joancy
  *
  */
 public abstract class Ring extends DataElement {
 	public int stackType = Consts.STACK_NONE;
 
-	// ͸
+	// 透明度
 	public float transparent = 1f;
 
-	// ߿
+	// 边框类型
 	public Para borderStyle = new Para(new Integer(Consts.LINE_SOLID));
 
-	// ߿
+	// 边框宽度
 	public Para borderWeight = new Para(new Integer(0));
 
-	// ߿ɫ
+	// 边框颜色
 	public Para borderColor = new Para(new Integer(Color.DARK_GRAY.getRGB()),Consts.LEGEND_P_LINECOLOR);
 
-	// ɫ
+	// 填充颜色
 	public Para fillColor = new Para(Consts.LEGEND_P_FILLCOLOR);
 
-	// ʾ
+	// 标示文字
 	public Para text = new Para(null);
 
-	// ʾ
+	// 标示文字字体
 	public Para textFont = new Para();//"Dialog");
 
-	// ʾ
+	// 标示文字字型
 	public Para textStyle = new Para(new Integer(0));
 
-	// ʾִС
+	// 标示文字大小
 	public Para textSize = new Para(new Integer(12));
 
-	// ʾɫ
+	// 标示文字颜色
 	public Para textColor = new Para(Color.black);
 
-	// صʾ
+	// 文字重叠显示
 	public boolean textOverlapping = true;
 
 
 	/**
-	 * ȱʡֵĹ캯
+	 * 缺省值的构造函数
 	 */
 	public Ring() {
 	}
 
 	/**
-	 * Ƿѻͼ
-	 * @return Ƕѻͷtrue򷵻false
+	 * 是否堆积图形
+	 * @return 如果是堆积类型返回true，否则返回false
 	 */
 	public boolean isStacked() {
 		return (stackType>Consts.STACK_NONE);
 	}
 
 	/**
-	 * ȡͼԪеֵѻͼʱܼ
-	 * @param de ݵһ
-	 * @param numericAxis ֵ
-	 * @return ֵ
+	 * 获取图元中的最大数值，堆积图时按分类汇总计算
+	 * @param de 数据第一
+	 * @param numericAxis 数值轴名称
+	 * @return 最大值
 	 */
 	public static Double getMaxValue(DataElement de, String numericAxis) {
 		Sequence numData = de.getAxisData(numericAxis);
@@ -82,7 +82,7 @@ public abstract class Ring extends DataElement {
 			stackType = ((Line)de).stackType;
 		}
 		if (stackType==Consts.STACK_VALUE) {
-//			öֱֵӴͼԪңϵͼԪĺϲֵ
+//			枚举值直接从图元自身找，轴上的是所有图元的合并值
 			int catSize = de.categories.length();
 			for (int c = 1; c <= catSize; c++) {
 				String catName = (String) de.categories.get(c);
@@ -113,7 +113,7 @@ public abstract class Ring extends DataElement {
 		return text.stringValue(index);
 	}
 	
-	// colorIndex,ö£colorIndexΪϵֵͬϵУɫͳһ
+	// colorIndex,在枚举轴下，colorIndex为系列值，同系列，颜色统一
 	private void drawData(int index, double halfColWidth, int step,
 			int seriesIndex) {
 		String title = getTipTitle(index);
@@ -134,8 +134,8 @@ public abstract class Ring extends DataElement {
 			}
 
 			p1 = new Point2D.Double(p.getX() - halfColWidth,
-					basePoint.getY()); // ½
-			p2 = new Point2D.Double(p.getX() + halfColWidth, p.getY()); // Ͻ
+					basePoint.getY()); // 左下角
+			p2 = new Point2D.Double(p.getX() + halfColWidth, p.getY()); // 右上角
 			Shape dataLinkShape = drawFreeColumn(index, p1, p2, step, true, seriesIndex);
 			if(dataLinkShape!=null){
 				addLink(dataLinkShape, htmlLink.stringValue(index), title,linkTarget.stringValue(index));
@@ -172,12 +172,12 @@ public abstract class Ring extends DataElement {
 
 			if (isVerticalColumn) {
 				p1 = new Point2D.Double(p.getX() - halfColWidth,
-						basePoint.getY()); // ½
-				p2 = new Point2D.Double(p.getX() + halfColWidth, p.getY()); // Ͻ
+						basePoint.getY()); // 左下角
+				p2 = new Point2D.Double(p.getX() + halfColWidth, p.getY()); // 右上角
 			} else {
 				p1 = new Point2D.Double(basePoint.getX(), p.getY()
-						+ halfColWidth); // ½
-				p2 = new Point2D.Double(p.getX(), p.getY() - halfColWidth); // Ͻ
+						+ halfColWidth); // 左下角
+				p2 = new Point2D.Double(p.getX(), p.getY() - halfColWidth); // 右上角
 			}
 			dataLinkShape = drawFreeColumn(index, p1, p2, step, isVerticalColumn, seriesIndex);
 		} else {
@@ -190,7 +190,7 @@ public abstract class Ring extends DataElement {
 			int bs = borderStyle.intValue(seriesIndex);
 			float bw = borderWeight.floatValue(seriesIndex);
 			ChartColor fc = fillColor.chartColorValue(seriesIndex);
-			if (t1.getLocation() == Consts.AXIS_LOC_POLAR) {// ǼʱΪһλ
+			if (t1.getLocation() == Consts.AXIS_LOC_POLAR) {// 垂向轴是极轴时，为一段环
 				if (getData3() == null) {
 					start = angleAxis.startAngle;
 					extent = p.getY();
@@ -201,7 +201,7 @@ public abstract class Ring extends DataElement {
 					extent = Math.abs(p.getY() - angle3);
 				}
 				switch (step) {
-				case 1: // 
+				case 1: // 画环
 					Rectangle2D bigBounds = pc.getEllipseBounds(p.getX()
 							+ halfColWidth);
 					Rectangle2D smallBounds = pc.getEllipseBounds(p.getX()
@@ -224,7 +224,7 @@ public abstract class Ring extends DataElement {
 							fontStyle, fontSize, c, textOverlapping);
 					break;
 				}
-			} else {// ΪʱΪһȣ
+			} else {// 垂向轴为角轴时，为一段扇；
 				TickAxis polarAxis = pc.getPolarAxis();
 				double r3 = 0;
 				if (getData3() != null) {
@@ -238,7 +238,7 @@ public abstract class Ring extends DataElement {
 				start = angleAxis.startAngle + p.getY() - halfColWidth;
 				extent = halfColWidth * 2;
 				switch (step) {
-				case 1: // 
+				case 1: // 画扇
 						dataLinkShape = Utils.draw2DRing(g, bigBounds, smallBounds, start,
 								extent, bc, bs, bw, transparent, fc,isFillPie());
 					break;
@@ -264,9 +264,9 @@ public abstract class Ring extends DataElement {
 	}
 
 	/**
-	 * ȡָvalеķֵ
-	 * @param val ֵ
-	 * @return ֵ
+	 * 抽取分隔串val中的分类值部分
+	 * @param val 数据值
+	 * @return 分类值
 	 */
 	public static Object discardSeries(Object val) {
 		if (val instanceof Number) {
@@ -276,12 +276,12 @@ public abstract class Ring extends DataElement {
 	}
 
 	/**
-	 * catNameУnumValռͳֵİٷֱ
-	 * @param catName 
-	 * @param numVal ǰֵ
-	 * @param enumData 
-	 * @param numData Ӧֵ
-	 * @return ʵȵİٷֱֵ
+	 * 算出分类catName中，numVal占分类统计值的百分比
+	 * @param catName 分类名称
+	 * @param numVal 当前数值
+	 * @param enumData 分类序列
+	 * @param numData 对应的数值序列
+	 * @return 实数精度的百分比值
 	 */
 	public static Double getPercentValue(Object catName,Object numVal,Sequence enumData,Sequence numData){
 		double catSum = Utils.sumCategory(catName.toString(), enumData, numData);
@@ -313,16 +313,16 @@ public abstract class Ring extends DataElement {
 			Point2D basePoint = ta1.getBasePoint(coor);
 			if (isVerticalColumn) {
 				p1 = new Point2D.Double(p.getX() - halfColWidth,
-						lastPoint.getY()); // ½
+						lastPoint.getY()); // 左下角
 				columnLength = basePoint.getY() - p.getY();
 				p2 = new Point2D.Double(p.getX() + halfColWidth,
-						lastPoint.getY() - columnLength); // Ͻ
+						lastPoint.getY() - columnLength); // 右上角
 			} else {
 				p1 = new Point2D.Double(lastPoint.getX(), p.getY()
-						+ halfColWidth); // ½
+						+ halfColWidth); // 左下角
 				columnLength = p.getX() - basePoint.getX();
 				p2 = new Point2D.Double(lastPoint.getX() + columnLength,
-						p.getY() - halfColWidth); // Ͻ
+						p.getY() - halfColWidth); // 右上角
 			}
 			linkShape = drawFreeColumn(index, p1, p2, step, isVerticalColumn, seriesIndex);
 		} else {
@@ -335,7 +335,7 @@ public abstract class Ring extends DataElement {
 			int bs = borderStyle.intValue(seriesIndex);
 			float bw = borderWeight.floatValue(seriesIndex);
 			ChartColor fc = fillColor.chartColorValue(seriesIndex);
-			if (ta1.getLocation() == Consts.AXIS_LOC_POLAR) {// ǼʱΪһλ
+			if (ta1.getLocation() == Consts.AXIS_LOC_POLAR) {// 垂向轴是极轴时，为一段环
 				if (lastPoint == null) {
 					start = angleAxis.startAngle;
 				} else {
@@ -343,7 +343,7 @@ public abstract class Ring extends DataElement {
 				}
 				extent = p.getY();
 				switch (step) {
-				case 1: // 
+				case 1: // 画环
 					Rectangle2D bigBounds = pc.getEllipseBounds(p.getX()
 							+ halfColWidth);
 					Rectangle2D smallBounds = pc.getEllipseBounds(p.getX()
@@ -368,7 +368,7 @@ public abstract class Ring extends DataElement {
 					break;
 				}
 				p2 = new Point2D.Double(p.getX(), start + extent);
-			} else {// ΪʱΪһȣ
+			} else {// 垂向轴为角轴时，为一段扇；
 				double innerR, outerR;
 				if (lastPoint == null) {
 					innerR = 0;
@@ -380,7 +380,7 @@ public abstract class Ring extends DataElement {
 				start = angleAxis.startAngle + p.getY() - halfColWidth;
 				extent = halfColWidth * 2;
 				switch (step) {
-				case 1: // 
+				case 1: // 画环
 					Rectangle2D bigBounds = pc.getEllipseBounds(outerR);
 					Rectangle2D smallBounds = pc.getEllipseBounds(innerR);
 					linkShape = Utils.draw2DRing(g, bigBounds, smallBounds, start, extent,
@@ -412,8 +412,8 @@ public abstract class Ring extends DataElement {
 	}
 
 	/**
-	 * ֲͼ
-	 * @param step ҪƵĲ
+	 * 分步绘制图形
+	 * @param step 要绘制的步骤
 	 */
 	public void drawStep(int step) {
 		if (!isVisible()) {
@@ -432,7 +432,7 @@ public abstract class Ring extends DataElement {
 		int size = pointSize();
 		Sequence sort = null;
 		sort = data1.psort(null);
-		//3DʱҪС˳򻭣ڸǲ
+		//当有3D柱时，要从小到大顺序画，否则会有遮盖不正常；
 		for (int i = 1; i <= size; i++) {
 			int index = ((Number)sort.get(i)).intValue();
 			double colWidth = getColumnWidth(ia1, index);
@@ -447,14 +447,14 @@ public abstract class Ring extends DataElement {
 		Sequence enumData = data1;// getAxisData(ea.getName());
 
 		int catCount = categories.length();
-		for (int c = 1; c <= catCount; c++) { // ໭
+		for (int c = 1; c <= catCount; c++) { // 挨个分类画柱子
 			String catName = (String) categories.get(c);
 
 			int index = 0;
 			int serCount = series.length();
 			if (serCount == 0) {
 				index = Utils.indexOf(enumData, catName, null);
-				if (index == 0) { // ĳϵеֵȱ
+				if (index == 0) { // 某个分类和系列的数值缺少
 					continue;
 				}
 				double colWidth = getColumnWidth(ea, index);
@@ -469,7 +469,7 @@ public abstract class Ring extends DataElement {
 					for (int s = 1; s <= serCount; s++) {
 						String serName = (String) series.get(s);
 						index = Utils.indexOf(enumData, catName, serName);
-						if (index == 0) { // ĳϵеֵȱ
+						if (index == 0) { // 某个分类和系列的数值缺少
 							continue;
 						}
 						double colWidth = getColumnWidth(ea, index);
@@ -481,7 +481,7 @@ public abstract class Ring extends DataElement {
 					for (int s = 1; s <= serCount; s++) {
 						String serName = (String) series.get(s);
 						index = Utils.indexOf(enumData, catName, serName);
-						if (index == 0) { // ĳϵеֵȱ
+						if (index == 0) { // 某个分类和系列的数值缺少
 							continue;
 						}
 						double colWidth = getColumnWidth(ea, index);
@@ -495,7 +495,7 @@ public abstract class Ring extends DataElement {
 	}
 	
 	/**
-	 * Ʊ
+	 * 绘制背景层
 	 */
 	public void drawBack() {
 		drawStep(1);
@@ -503,21 +503,21 @@ public abstract class Ring extends DataElement {
 
 
 	/**
-	 * м㣬ǰ
+	 * 绘制中间层，当前忽略
 	 */
 	public void draw() {
 	}
 
 	/**
-	 * ǰ
+	 * 绘制前景层
 	 */
 	public void drawFore() {
 		drawStep(2);
 	}
 
 	/**
-	 * ȡ༭Ϣб
-	 * @return Ϣб
+	 * 获取编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -544,7 +544,7 @@ public abstract class Ring extends DataElement {
 		paramInfos.add(group, new ParamInfo("textSize", Consts.INPUT_FONTSIZE));
 		paramInfos.add(group, new ParamInfo("textColor", Consts.INPUT_COLOR));
 
-		// group = "";
+		// group = "链接";
 		// paramInfos.add(group, new ParamInfo("tip"));
 		// paramInfos.add(group, new ParamInfo("url"));
 		// paramInfos.add(group, new ParamInfo("target"));
@@ -557,7 +557,7 @@ public abstract class Ring extends DataElement {
 	}
 	
 	/**
-	 * ͼλǰ׼
+	 * 图形绘制前的准备工作
 	 */
 	public void prepare() {
 		super.prepare();
@@ -565,8 +565,8 @@ public abstract class Ring extends DataElement {
 	}
 
 	/**
-	 * ͼԪĶѻǷϷ
-	 * @param de ͼԪ
+	 * 检查数据图元的堆积属性是否合法
+	 * @param de 数据图元
 	 */
 	public static void checkStackProperties(DataElement de) {
 		boolean isStacked = false;
@@ -581,7 +581,7 @@ public abstract class Ring extends DataElement {
 			isStacked = l.isStacked();
 		}
 
-		if (isStacked) { // ѻͼ
+		if (isStacked) { // 堆积图不允许负数
 			if(de.isPhysicalCoor()){
 				throw new RuntimeException("Stacked graph does not support physical coordinates.");
 			}
@@ -613,19 +613,19 @@ public abstract class Ring extends DataElement {
 	}
 
 	/**
-	 * Ƿ˽ɫ
-	 * @return н䷵true򷵻false
+	 * 是否定义了渐变填充色
+	 * @return 如果有渐变返回true，否则返回false
 	 */
 	public boolean hasGradientColor() {
 		return fillColor.hasGradientColor();
 	}
 
 	/**
-	 * öٶǱϵпȣᶼǰ㳤ȣֵ㣻ִС1ˣ
+	 * 枚举都是比系列宽度；日期轴都是按天算长度，数值轴则按数字算；不分大小与1的情况了；
 	 */
 	protected Shape drawFreeColumn(int index, Point2D p1, Point2D p2, int step,
 			boolean isVertical, int seriesIndex){return null;}
 	protected Sequence getData3(){return null;}
-	protected boolean isFillPie(){return false;}//价ɫʱǷʹ״䣬Ϊ״
+	protected boolean isFillPie(){return false;}//填充环的炫颜色时，是否使用扇状填充，否则为环状
 	public abstract double getColumnWidth(TickAxis ia, int index);
 }
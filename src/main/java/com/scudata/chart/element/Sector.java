@@ -9,33 +9,33 @@ import com.scudata.common.*;
 import com.scudata.dm.*;
 import com.scudata.util.Variant;
 /**
- * ͼֻӦڼϵ
- * ͨΪͼ
+ * 扇形图，只能应用于极坐标系
+ * 通常表现为饼图
  * @author Joancy
  *
  */
 public class Sector extends Ring {
-	// 
+	// 文字引导线
 	public Para textLineStyle = new Para(new Integer(Consts.LINE_SOLID));
 	public Para textLineWeight = new Para(new Float(1));
 	public Para textLineColor = new Para(Color.lightGray);
 
-	// бʾʱ ߵ߽
+	// 有标示文字引线时， 引线的最大边界
 	private transient double outerRadius = 0;
 
 	/**
-	 * ȱʡĹ캯
+	 * 缺省参数的构造函数
 	 */
 	public Sector() {
 		stackType = Consts.STACK_PERCENT;
 	}
 
 	/**
-	 * Ʊ
+	 * 绘制背景层
 	 */
 	public void drawBack() {
 		super.drawBack();
-		// бʾʱ ߵ߽
+		// 有标示文字引线时， 引线的最大边界
 		ICoor coor = getCoor();
 		if (coor.isPolarCoor()) {
 			PolarCoor pc = (PolarCoor) coor;
@@ -46,7 +46,7 @@ public class Sector extends Ring {
 	}
 
 	/**
-	 * м
+	 * 绘制中间层
 	 */
 	public void draw() {
 		ICoor coor = getCoor();
@@ -60,7 +60,7 @@ public class Sector extends Ring {
 			for (int s = 1; s <= serCount; s++) {
 				String serName = (String) series.get(s);
 				int index = Utils.indexOf(data1, catName, serName);
-				if (index == 0) { // ĳϵеֵȱ
+				if (index == 0) { // 某个分类和系列的数值缺少
 					continue;
 				}
 				Object val1 = discardSeries(data1.get(index));
@@ -102,10 +102,10 @@ public class Sector extends Ring {
 	}
 
 	/**
-	 * ȡ
-	 * @param ia ̶
-	 * @param index ֵ
-	 * @return ʵȵ
+	 * 获取柱宽
+	 * @param ia 刻度轴
+	 * @param index 数值序号
+	 * @return 实数精度的柱宽
 	 */
 	public double getColumnWidth(TickAxis ia, int index) {
 		ICoor coor = getCoor();
@@ -122,7 +122,7 @@ public class Sector extends Ring {
 		return true;
 	}
 
-	// Լ
+	// 画引线以及分类
 	protected void drawCategoryAndLine(int index, Point2D polarIn) {
 		PolarCoor pc = (PolarCoor) getCoor();
 		EnumAxis ea = pc.getEnumAxis();
@@ -135,7 +135,7 @@ public class Sector extends Ring {
 		if (!StringUtils.isValidString(txt)) {
 			return;
 		}
-		// 
+		// 文字引线
 		Graphics2D g = e.getGraphics();
 		int style = textLineStyle.intValue(index);
 		float weight = textLineWeight.intValue(index);
@@ -155,8 +155,8 @@ public class Sector extends Ring {
 	}
 
 	/**
-	 * ȡϢб
-	 * @return Ϣб
+	 * 获取参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -172,7 +172,7 @@ public class Sector extends Ring {
 
 		paramInfos.addAll(super.getParamInfoList());
 
-		//		ȥε
+		//		去掉扇形的物理坐标描述
 		ParamInfo pi = paramInfos.getParamInfoByName("data1");
 		String tmp = pi.getTitle();
 		int i = tmp.indexOf('/');
@@ -192,7 +192,7 @@ public class Sector extends Ring {
 	}
 
 	/**
-	 * ͼǰļ׼ݺϷԼ
+	 * 绘图前的计算准备，数据合法性检查
 	 */
 	public void prepare() {
 		super.prepare();
@@ -202,7 +202,7 @@ public class Sector extends Ring {
 					"Sector graph does not support cartesian coordinate system.");
 		}
 
-		if (!isStacked()) { // ͼҪѻ
+		if (!isStacked()) { // 扇图要求堆积类型
 			throw new RuntimeException(
 					"Sector graph must be stacked by value or percent.");
 		}
@@ -212,8 +212,8 @@ public class Sector extends Ring {
 					"Sector graph must specify an enumeration axis as polar axis.");
 		}
 
-		// ["","",""]öݣǰշͳȣڱͼ˵ӦͬһȦӦͬһ
-		// ࣬ʵΪ: [" ,"," ,"," ,"]  ࡣͼݾͳһˣշ಻Ӱǩ
+		// 形如["张三","李四","王五"]的枚举数据；由于轴总是按照分类来解释长度；对于饼图来说，应该是同一个圈，应该隶属同一个
+		// 分类，故调整数据为: [" ,张三"," ,李四"," ,王五"]；即都是 空 分类。饼图数据就统一了，空分类不影响标签绘制
 		String eaName = ea.getName();
 		Sequence enumData = getAxisData(eaName);
 		Sequence data = null;
@@ -231,22 +231,22 @@ public class Sector extends Ring {
 			}
 		}
 		setAxisData(eaName, data);
-		ea.gapRatio = 0;// ͼgapΪ0
-//		׼ʱԵǰcategoriesֵsector˷ֵҪprepare
+		ea.gapRatio = 0;// 扇形图，gap总是为0
+//		父类中准备数据时对当前categories赋值，sector调整了分类值，需要重新prepare
 		super.prepare();
 	}
 	
 	/**
-	 * ¡ֵ
-	 * @param s һ
+	 * 克隆数据值
+	 * @param s 另一个扇形
 	 */
 	public void clone(Sector s){
 		super.clone(s);
 	}
 	
 	/**
-	 * ȿ¡ͼԪ
-	 * @return ¡ͼԪ
+	 * 深度克隆扇图元
+	 * @return 克隆后的扇图元
 	 */
 	public Object deepClone() {
 		Sector s = new Sector();
@@ -20,105 +20,105 @@ import com.scudata.chart.Utils;
 import com.scudata.chart.edit.ParamInfo;
 import com.scudata.chart.edit.ParamInfoList;
 /**
- * ıͼԪ
- * ıͼԪıʽչ֣չʾ
+ * 文本图元
+ * 文本图元不光可以文本形式展现，还可以以条形码展示
  * @author Joancy
  *
  */
 public class Text extends DataElement{
-	//ıʱЧʵʿģ
-//	ıʱ ߵĽص
-//	ʱÿ ߴ
+	//单行文本时，宽高无效，根据文字实际宽高来的；
+//	多行文本时， 超出宽高的将截掉
+//	条码时采用宽高来适配 条码尺寸
 	public Para width=new Para(new Double(0));
-	public Para height=new Para(new Double(0));//ʱݿ
+	public Para height=new Para(new Double(0));//条码时，会根据宽高适配
 
 	public Para text = new Para(null);
-	public Para textFont = new Para("Dialog");//""
+	public Para textFont = new Para("Dialog");//"宋体"
 	public Para textStyle = new Para(new Integer(0));
 	public Para textSize = new Para(new Integer(14));
 	public Para textColor = new Para(Color.black);
 	public Para backColor = new Para(null);
 	
-//	ǷʽııʱwidthheightxyΪıĵ㣬Ҳб
-//	ıʱx,yΪϽǣÿ͸ߣתԣΪwh޶ľ
+//	是否多行式文本，单行文本时，不采用width和height，x，y为文本中心点，背景也仅文字有背景
+//	多行文本时，x,y为左上角，采用宽和高，忽略旋转和纵向属性，背景为w，h限定的矩形
 	public boolean isMulti = false;
 
-	// תǶ
+	// 旋转角度
 	public int textAngle = 0;
 
-	// 
+	// 横向对齐
 	public int hAlign = Consts.HALIGN_CENTER;
 
-	// 
+	// 纵向对齐
 	public int vAlign = Consts.VALIGN_MIDDLE;
 	
-	// 
+	// 条形码相关属性
 	public int barType = Consts.TYPE_NONE;
 
-	// ַ 
+	// 字符集 
 	public String charSet = "UTF-8";
 	
-	// ʱʾ
+	// 条形码时显示文字
 	public boolean dispText = false;
 
-	// ݴ
+	// 容错率
 	public String recError = "M";
 	
-	//logoͼ
+	//logo图内容
 	public Para logoValue = new Para();
 	
-	//logoռͼεİٷֱ
+	//logo占图形的百分比例
 	public int logoSize=15;
 
-	// logo
+	// logo背景框
 	public boolean logoFrame = true;
 	
 	/**
-	 * ǷΪı
-	 * @return Ƕıtrue򷵻false
+	 * 是否为多行文本
+	 * @return 如果是多行文本返回true，否则返回false
 	 */
 	public boolean isMulti() {
 		return isMulti;
 	}
 
 	/**
-	 * ͼǰ׼ǰԸú
+	 * 绘图前准备工作，当前忽略该函数
 	 */
 	public void beforeDraw() {
 	}
 
 	/**
-	 * м㣬ԣ
+	 * 绘制中间层，忽略，无意义
 	 */
 	public void draw() {
 	}
 
 	/**
-	 * Ʊ㣬
+	 * 绘制背景层，忽略
 	 */
 	public void drawBack() {
 	}
 
 	/**
-	 * ȡλõıռ
-	 * @param index 
-	 * @return ؿ
+	 * 获取序号位置的文本所占宽度
+	 * @param index 序号
+	 * @return 像素宽度
 	 */
 	public int getWidth(int index){
 		return (int)e.getXPixel(width.doubleValue(index));
 	}
 	
 	/**
-	 * ȡλõıռ
-	 * @param index 
-	 * @return ظ߶
+	 * 获取序号位置的文本所占搞度
+	 * @param index 序号
+	 * @return 像素高度
 	 */
 	public int getHeight(int index){
 		return (int)e.getYPixel(height.doubleValue(index));
 	}
 	
 	/**
-	 * ǰ
+	 * 绘制前景层
 	 */
 	public void drawFore() {
 		if (!isVisible()) {
@@ -128,7 +128,7 @@ public class Text extends DataElement{
 	}
 	
 	private void drawTexts() {
-		// 
+		// 数据
 		int size = pointSize();
 		for (int i = 1; i <= size; i++) {
 			Point2D p = getScreenPoint(i);
@@ -156,7 +156,7 @@ public class Text extends DataElement{
 			Rectangle shape;
 			Graphics g = e.getGraphics();
 			if(!isMulti){
-//				ıʱÿߣָxyΪıĵ
+//				单行文本时，不采用宽高，指定的x，y为文本中心点
 				Utils.drawText(e, aText, px, py, font, c, backC, ts, textAngle, hAlign
 						+ vAlign, true);
 				shape = Utils.getTextSize(aText, g, ts, textAngle, font);
@@ -167,15 +167,15 @@ public class Text extends DataElement{
 				int fheight = fm.getHeight();
 				int w = getWidth(index);
 				if(w<1){
-					w = 60;//δʱȱʡ
+					w = 60;//未设置时缺省宽度
 				}
 				ArrayList<String> wrapedString = StringUtils2.wrapString(aText, fm, w, false, -1);
-				//	ʱԴֱ֣ת״̬
+				//	多行时，忽略垂直布局，旋转等特殊状态
 				int h = getHeight(index);
 				int lineH = StringUtils2.getTextRowHeight(fm);
 				int lines = wrapedString.size();
 				if(h<1){
-					h = lineH*lines;//δʱȱʡ
+					h = lineH*lines;//未设置时缺省宽度
 				}
 				shape = new Rectangle((int)px, (int)py, w, h);
 				if(backC!=null){
@@ -194,7 +194,7 @@ public class Text extends DataElement{
 					yy = (int)py;
 				}
 				for (int i = 0; i < lines; i++) {
-					if (i > 0 && yy + lineH > py + h) { // һǻƣڿⲻڸǱĸ
+					if (i > 0 && yy + lineH > py + h) { // 第一行总是绘制，其余行如果在框外不画，否则遮盖别的格子文字
 						break;
 					}
 
@@ -221,17 +221,17 @@ public class Text extends DataElement{
 			posDesc.setBounds((int)px, (int)py, barcodeImg.getWidth(), barcodeImg.getHeight());
 			Point drawPoint = Utils.getRealDrawPoint(posDesc, hAlign + vAlign,true);
 			g.drawImage(barcodeImg, drawPoint.x, drawPoint.y, null);
-//			g.drawImage(barcodeImg, (int)px, (int)py,null);ע͹ͼƬҪݶ뷽ʽ
+//			g.drawImage(barcodeImg, (int)px, (int)py,null);曾经注释过坐标调整，图片还是需要根据对齐方式布置
 			return posDesc;
 		}
 	}
 
 	/**
-	 * ָµıռÿ
-	 * @param fm 
-	 * @param text ıֵ
-	 * @param g ͼ豸
-	 * @return ռÿȣλΪ
+	 * 计算指定字体下的文本占用宽度
+	 * @param fm 字体度量
+	 * @param text 文本值
+	 * @param g 图形设备
+	 * @return 占用宽度，单位为像素
 	 */
 	public static int stringWidth(FontMetrics fm, String text, Graphics g) {
 		Graphics displayG = g;
@@ -240,8 +240,8 @@ public class Text extends DataElement{
 	}
 	
 	/**
-	 * ȡ༭Ϣб
-	 * @return Ϣб
+	 * 获取编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -285,42 +285,42 @@ public class Text extends DataElement{
 	}
 
 	/**
-	 * ȡָµʾı
-	 * @param index 
-	 * @return ı
+	 * 获取指定序号下的显示文本
+	 * @param index 序号
+	 * @return 文本内容
 	 */
 	public String getDispText(int index) {
 		return text.stringValue(index);
 	}
 	
 	protected String getText(int index) {
-//		ʱ tipΪǰ
+//		条码时， tip为当前文字
 		if(barType!=Consts.TYPE_NONE){
 			return text.stringValue(index);
 		}
-//		ıʱ˴أ ײ㷵Ϣ
+//		文本时，此处不返回， 底层返回坐标信息
 		return null;
 	}
 
 	/**
-	 * Ƿɫ
-	 * ú壬false
+	 * 是否包含渐变颜色
+	 * 该函数无意义，返回false
 	 */
 	public boolean hasGradientColor() {
 		return false;
 	}
 
 	/**
-	 * ¡ı
-	 * @param t һı
+	 * 克隆文本内容
+	 * @param t 另一个文本对象
 	 */
 	public void clone(Text t){
 		super.clone(t);
 	}
 	
 	/**
-	 * ȿ¡һıͼԪ
-	 * @return ¡ıͼԪ
+	 * 深度克隆一个文本图元
+	 * @return 克隆后的文本图元
 	 */
 	public Object deepClone() {
 		Text t = new Text();
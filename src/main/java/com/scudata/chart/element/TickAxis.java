@@ -10,174 +10,174 @@ import com.scudata.common.*;
 import com.scudata.dm.*;
 
 /**
- * ̶ ʵֵĸ
+ * 刻度轴 所有实际数据值的父类
  * 
  * @author Joancy
  */
 
 public abstract class TickAxis extends ObjectElement implements IAxis {
 	private static int ARROW_SHIFT = 8;
-	/***** ߼ *****/
-	// 
-	public String name; // 
+	/***** 逻辑轴属性 *****/
+	// 轴名称
+	public String name; // 名称
 
-	// Ƿɼ
+	// 是否可见
 	public boolean visible = true;
 
-	// λ
+	// 轴位置
 	public int location = Consts.AXIS_LOC_H;
 
-	// ԣʼ(xStart>xEndʾ)
+	// 横轴属性：起始物理横坐标(xStart>xEnd表示向左)
 	public double xStart = 0.1;
 
-	// ԣ꣨ͷ
+	// 横轴属性：结束物理横坐标（不含箭头）
 	public double xEnd = 0.8;
 
-	// ԣ
+	// 横轴属性：纵坐标
 	public double xPosition = 0.8;
 
-	// ԣʼ(yStart<yEndʾ)
+	// 纵轴属性：起始物理纵坐标(yStart<yEnd表示向下)
 	public double yStart = 0.8;
 
-	// ԣ
+	// 纵轴属性：结束物理纵坐标
 	public double yEnd = 0.1;
 
-	// ԣ
+	// 纵轴属性：横坐标
 	public double yPosition = 0.1;
 
-	// ԣԭ
+	// 极轴属性：原点物理横坐标
 	public double polarX = 0.4;
 
-	// ԣԭ
+	// 极轴属性：原点物理纵坐标
 	public double polarY = 0.5;
 
-	// ᳤
+	// 极轴长度
 	public double polarLength = 0.3;
 
-	// ĸ߿ȣ1Բ
+	// 极轴的高宽比，不等于1即椭圆
 	// public double HWRage = 1;
 
-	// ԣʼǶ(0-360)
+	// 角轴属性：起始角度(0-360度)
 	public double startAngle = 0;
 
-	// ԣǶ(0-360)
+	// 角轴属性：结束角度(0-360度)
 	public double endAngle = 360;
 
-	// ϵԣ,ò 岻󣬿ֱָseriesԴӶȷϵеʾ
+	// 系列属性：并列数,该参数 意义不大，可以直接指定series属性从而确定系列的显示个数
 	// public int seriesNum = 0;
 
-	// ᡢᶨ壺Ƿ
-	// ֻߡ֧
+	// 横轴、纵轴定义：是否立体
+	// 只有线、柱、梯形支持立体
 	public boolean is3D = false;
 
-	// 3dȱʣֱϵΪϵпȱȣֵʱֵֵϵݲ֧
+	// 3d厚度比率，直角坐标系下为厚度与系列宽度比，数值轴时，可以数值像素值。极坐标系下暂不支持
 	public double threeDThickRatio = 0.38;
 
-	/***** ̶ *****/
-	// ɫ
+	/***** 刻度轴外观属性 *****/
+	// 轴色
 	public Color axisColor = Color.LIGHT_GRAY;
 
-	// 
+	// 轴线形
 	public int axisLineStyle = Consts.LINE_SOLID;
 
-	// ߿
+	// 轴线宽
 	public int axisLineWeight = 1;
 
-	// ͷ̶ȣ
+	// 轴箭头，固定长度？
 	public int axisArrow = Consts.LINE_ARROW_NONE;
 
-	// 
+	// 轴标题文字
 	public String title;
 
-	// 
-	public String titleFont;// = "";
+	// 轴标题文字字体
+	public String titleFont;// = "宋体";
 
-	// 
+	// 轴标题文字字型
 	public int titleStyle;
 
-	// ֺ
+	// 轴标题文字字号
 	public int titleSize = 16;
 
-	// գΪ̶ȱǩģ޿̶ȱǩʱľ
+	// 标题文字留空，为标题文字至刻度标签或者坐标轴中心（无刻度标签时）的距离
 	public int titleIndent = 2;
 
-	// ɫ
+	// 轴标题文字字色
 	public Color titleColor = Color.black;
 
-	// бǶ
+	// 轴标题倾斜角度
 	public int titleAngle;
 
-	// Ƿп̶ȱǩ
+	// 是否有刻度标签
 	public boolean allowLabels = true;
 
-	// ̶ȱǩ
-	public String labelFont;// = "";
+	// 刻度标签字体
+	public String labelFont;// = "宋体";
 
-	// ̶ȱǩ
+	// 刻度标签字型
 	public int labelStyle;
 
-	// ̶ȱǩֺ
+	// 刻度标签字号
 	public int labelSize = 12;
 
-	// ̶ȱǩգΪ̶ȱǩߵľ
+	// 刻度标签留空，为刻度标签至坐标轴中心线的距离
 	public int labelIndent = 2;
 
-	// ̶ȱǩɫ
+	// 刻度标签字色
 	public Color labelColor = Color.darkGray;
 
-	// ̶ȱǩʾ
+	// 刻度标签显示间隔
 	public int labelStep = 0;
 
-	// ̶ȱǩбǶ
+	// 刻度标签倾斜角度
 	public int labelAngle = 0;
 
-	// ̶ȱǩܷص
+	// 刻度标签能否重叠
 	public boolean labelOverlapping = false;
 
-	// ̶λ
+	// 刻度线位置
 	public int scalePosition = Consts.TICK_LEFTDOWN;
 
-	// ̶
+	// 刻度线线形
 	public int scaleStyle = Consts.LINE_SOLID;
 
-	// ̶߿
+	// 刻度线线宽
 	public int scaleWeight = 1;
 
-	// ̶߳ߴ
+	// 刻度线尺寸
 	public int scaleLength = 3;
 
-	// ̶ʾ
+	// 刻度线显示间隔
 	public int displayStep = 0;
 
-	// ԣǷп̶ȼ
+	// 间隔区属性，是否有刻度间隔区
 	public boolean allowRegions = true;
 
-	// // ԣֹڿ̶мλ
+	// // 间隔区属性，间隔区起止于刻度中间位置
 	// public boolean regionMiddle = true;
 
-	// ԣ̶ȼ
+	// 间隔区属性，刻度间隔线
 	public int regionLineStyle = Consts.LINE_SOLID;
 
-	// ԣ̶ȼɫ
+	// 间隔区属性，刻度间隔线色
 	public Color regionLineColor = Color.lightGray;
 
-	// ԣ̶ȼ߿
+	// 间隔区属性，刻度间隔线宽
 	public int regionLineWeight = 1;
 
-	// ԣ̶ȼɫ
+	// 间隔区属性，刻度间隔区颜色
 	public Para regionColors = new Para(null);// new Color(241,243,235)
 
-	// ԣ̶ȼ͸()
+	// 间隔区属性，刻度间隔区透明度(不包括间隔线)
 	public float regionTransparent = 0.6f;
 
-	// ԣ̶ȼǷΪΣֻڼЧΪfalseʱΪλΣ
+	// 间隔区属性，刻度间隔区是否为多边形（只在极坐标中有效，为false时为扇形或环形）
 	public boolean isPolygonalRegion = false;
 
 	/**
-	 * ȱʡֵ캯
+	 * 缺省值构造函数
 	 */
 	public TickAxis() {
-		// ȱʡɫΪ͸ɫɫ
+		// 缺省间隔色为透明色间隔灰色
 		Sequence seq = new Sequence();
 		ChartColor c1 = new ChartColor(Color.white);
 		c1.setGradient(false);
@@ -185,13 +185,13 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 		ChartColor c2 = new ChartColor(new Color(241, 243, 235));
 		c2.setGradient(false);
 		seq.add(c2);
-		regionColors = new Para(seq);// ֵʼɫ
+		regionColors = new Para(seq);// 给区域赋值初始颜色
 	}
 
 	/**
-	 * ȡ༭Ϣб
+	 * 获取编辑参数信息列表
 	 * 
-	 * @return Ϣб
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -292,39 +292,39 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * ȡ
+	 * 获取轴的名称
 	 * 
-	 * @return 
+	 * @return 名称
 	 */
 	public String getName() {
 		return name;
 	}
 
 	/**
-	 * ȡķλ
+	 * 获取轴的方位
 	 * 
-	 * @return λãֵοConsts.AXIS_LOC_X;
+	 * @return 轴位置，值参考Consts.AXIS_LOC_X;
 	 */
 	public int getLocation() {
 		return location;
 	}
 
 	/**
-	 * ǰǷ
-	 * @return ӷtrue򷵻false
+	 * 当前轴是否可视
+	 * @return 可视返回true，否则返回false
 	 */
 	public boolean isVisible() {
 		return visible;
 	}
 
 	/**
-	 * ͼǰ׼
-	 * һЩòԣ߸ʹõֵ
+	 * 绘图前的数据准备
+	 * 调整一些设置不合理的属性，或者更方便使用的属性值
 	 * 
-	 * @param dataElements ͼԪ
+	 * @param dataElements 数据图元
 	 */
 	public void prepare(ArrayList<DataElement> dataElements) {
-		// 
+		// 角坐标
 		startAngle = in360(startAngle);
 		endAngle = in360(endAngle);
 		if (startAngle > endAngle) {
@@ -333,7 +333,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 			endAngle = d;
 		}
 
-		// ̶ȼĸ1ֱ(%)ǷΪ0ɣ̶ȼΪ1ʾΪ1ʾҲ %2 Ľ
+		// 刻度间隔的个数加1后，直接求余(%)，结果是否为0即可；刻度间隔为1表示为隔1个显示，也即 %2 的结果
 		displayStep = displayStep + 1;
 		labelStep = labelStep + 1;
 
@@ -348,10 +348,10 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * жϽǷǸԲ
-	 * Բɿ̶ȱʶĲͬ
+	 * 判断角轴的坐标域是否是个圆
+	 * 圆域和区间域会造成刻度标识的不同
 	 * 
-	 * @return boolean Բ򷵻true򷵻false
+	 * @return boolean 是圆域返回true，否则返回false
 	 */
 	public boolean isCircleAngle() {
 		double angleRange = endAngle - startAngle;
@@ -359,9 +359,9 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * ȡس
-	 * нΪ᷶Χ
-	 * @return ĳ
+	 * 获取轴的像素长度
+	 * 其中角轴则为角轴范围
+	 * @return 轴的长度
 	 */
 	public double getAxisLength() {
 		Point2D p1, p2;
@@ -436,9 +436,9 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * ȡĶY
-	 * ʱendAngle
-	 * @return yֵ
+	 * 获取坐标轴的顶点Y坐标
+	 * 角轴时返回endAngle
+	 * @return y坐标值
 	 */
 	public double getTopY() {
 		switch (location) {
@@ -455,9 +455,9 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * ȡĵ׵Y
-	 * ʱstartAngle
-	 * @return yֵ
+	 * 获取坐标轴的底点Y坐标
+	 * 角轴时返回startAngle
+	 * @return y坐标值
 	 */
 	public double getBottomY() {
 		switch (location) {
@@ -474,9 +474,9 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * ȡX
-	 * ʱ
-	 * @return xֵ
+	 * 获取坐标轴的左边X坐标
+	 * 角轴时无意义
+	 * @return x坐标值
 	 */
 	public double getLeftX() {
 		switch (location) {
@@ -491,9 +491,9 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * ȡұX
-	 * ʱ
-	 * @return xֵ
+	 * 获取坐标轴的右边X坐标
+	 * 角轴时无意义
+	 * @return x坐标值
 	 */
 	public double getRightX() {
 		switch (location) {
@@ -508,15 +508,15 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/*
-	 * ֱϵʱǹľΣ̶ʱֻһߣ regionShapeʱص߿
-	 * һɫڶǱߣ󻭵ḲǱߣҪ󻭡
+	 * 直角坐标系时，由于是规则的矩形，画刻度线时只画一条边； 如果画整个regionShape，如果是虚线时重叠画会让虚线看起来不虚
+	 * 第一步画填充色，第二步才是边线，否则后画的区间会覆盖边线，线要后画。
 	 * 
 	 * @param regionShape
 	 *            Shape
 	 * @param regionColor
 	 *            Color
 	 * @param location
-	 *            int ÿֻҶߣ᲻ʱȱߣԵһ̶ʱʹdoubleEdge
+	 *            int 每个区间只画右顶边，如果轴不在最边时，会缺区间线，所以第一个刻度时，使用doubleEdge画两边
 	 */
 	private void drawRegion(Shape regionShape, ChartColor regionColor, int step) {
 		drawRegion(regionShape, regionColor, step, false);
@@ -558,7 +558,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 				} else if (location == Consts.AXIS_LOC_V) {
 					x = rect.x;
 					y = rect.y;
-					// ±ȻصƣױߵŲм󣬲ֵױ߿ȱ
+					// 绘制上下边虽然有重叠绘制，但是如果最底边的轴线挪到中间后，不会出现底边空缺
 					g.drawLine(x, y, x + rect.width, y);
 					if (doubleEdge) {
 						g.drawLine(x, y + rect.height, x + rect.width, y
@@ -571,7 +571,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 		}
 	}
 
-	// תֱ㣬ӵ
+	// 将极坐标点转成直角坐标点，并添加到多边形中
 	private void addPolarPoint(java.awt.Polygon polygon, PolarCoor pc,
 			double polarLen, double angle) {
 		Point2D p = new Point2D.Double(polarLen, angle);
@@ -580,13 +580,13 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * Ʊ
+	 * 绘制背景层
 	 */
 	public void drawBack() {
 		if (!isVisible()) {
 			return;
 		}
-		// ҪȽ仭
+		// 需要先将区间画完
 		drawRegionStep(1);
 		drawRegionStep(2);
 	}
@@ -594,14 +594,14 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	void drawAxisBorder() {
 		Graphics2D g = e.getGraphics();
 		ArrayList coorList = e.getCoorList();
-		// 
+		// 坐标轴
 		if (Utils.setStroke(g, axisColor, axisLineStyle, axisLineWeight)) {
 			double x, y, w, h;
 			switch (location) {
 			case Consts.AXIS_LOC_H:
 			case Consts.AXIS_LOC_POLAR:
 				Utils.setStroke(g, axisColor, axisLineStyle, axisLineWeight);
-				// 1.
+				// 1.画轴线
 				Utils.drawLine(g, getStartPoint(), getEndPoint());
 				x = getRightX();
 				y = getBottomY();
@@ -618,7 +618,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 					}
 				}
 
-				if (location == Consts.AXIS_LOC_H) { // ֱϵ3Dƽı
+				if (location == Consts.AXIS_LOC_H) { // 直角坐标系绘制3D平行四边形
 					for (int i = 0; i < coorList.size(); i++) {
 						Object coor = coorList.get(i);
 						if (!(coor instanceof CartesianCoor)) {
@@ -636,7 +636,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 								axisLineWeight);
 						double x2 = getRightX();
 						if (coorShift == 0) {
-							// 2.3DʱѾ1ߣ˴ٻ᲻ڵױʱͬ
+							// 2.不是3D轴时，已经在1画轴线，此处不能再画；否则横轴不在底边时，绘制两条不同的线
 							// g.drawLine((int)x, (int)y, (int)x2, (int)y);
 						} else {
 							java.awt.Polygon polygon = new java.awt.Polygon();
@@ -685,17 +685,17 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 					TickAxis xAxis = (TickAxis) cc.getXAxis();
 					double x1 = xAxis.getLeftX();
 					double x2 = xAxis.getRightX();
-					double thisX = getLeftX(); // ֱx
+					double thisX = getLeftX(); // 垂直轴自身的x
 					double d1 = Math.abs(x1 - thisX);
 					double d2 = Math.abs(x2 - thisX);
-					x = (d1 < d2) ? x1 : x2; // ˭ýȡ˭
+					x = (d1 < d2) ? x1 : x2; // 谁离得近就取谁
 					y = getBottomY();
 					double y2 = getTopY();
 					if (coorShift == 0) {
-						// ע͵ͬ
+						// 注释道理同上
 						// g.drawLine((int)x, (int)y, (int)x, (int)y2);
 					} else {
-						// ʱƽıǿǰx
+						// 立体时，平行四边形总是靠近当前轴的x
 						java.awt.Polygon polygon = new java.awt.Polygon();
 						polygon.addPoint((int) x, (int) y);
 						polygon.addPoint((int) x, (int) y2);
@@ -736,9 +736,9 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 								Utils.drawLine(g, p1, p2);
 							}
 						}
-					} else { // 
+					} else { // 扇形
 						Point2D orginalPoint = new Point2D.Double(
-								polarAxis.getLeftX(), polarAxis.getBottomY()); // ԭ
+								polarAxis.getLeftX(), polarAxis.getBottomY()); // 原点
 						x = orginalPoint.getX() - polarLen;
 						y = orginalPoint.getY() - polarLen;
 						w = polarLen * 2;
@@ -751,9 +751,9 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 				}
 				break;
 			}
-		} else if (useGradient) {// ޱ߿ʹ˽ɫ3Dᣬ3dƽ̨
+		} else if (useGradient) {// 无边框而且使用了渐变色的3D坐标轴，绘制3d炫平台
 			double x, y, w, h;
-			if (location == Consts.AXIS_LOC_H) { // ֱϵ3DCubeƽ̨
+			if (location == Consts.AXIS_LOC_H) { // 直角坐标系绘制3DCube平台
 				for (int i = 0; i < coorList.size(); i++) {
 					Object coor = coorList.get(i);
 					if (!(coor instanceof CartesianCoor)) {
@@ -792,15 +792,15 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 					if (coorShift == 0) {
 						continue;
 					}
-					// ʱƽıǿǰx
+					// 立体时，平行四边形总是靠近当前轴的x
 					TickAxis xAxis = (TickAxis) cc.getXAxis();
 					double x1 = xAxis.getLeftX();
 					double x2 = xAxis.getRightX();
-					double thisX = getLeftX(); // ֱx
+					double thisX = getLeftX(); // 垂直轴自身的x
 					double d1 = Math.abs(x1 - thisX);
 					double d2 = Math.abs(x2 - thisX);
 					w = Utils.getPlatformH(coorShift);
-					x = (int) (((d1 < d2) ? x1 : x2) - w); // ˭ýȡ˭
+					x = (int) (((d1 < d2) ? x1 : x2) - w); // 谁离得近就取谁
 					y = (int) getTopY();
 					h = (int) getBottomY() - y;
 					coorThick = w;
@@ -816,27 +816,27 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/*
-	 * ֵvalϳȣ ּ㷽ʽ
-	 * 1Գ val̶ȷΧռеĳȣһڰ뾶㡣
-	 * övalϵпȣǰval㳤ȣֵval㳤ȣִС1 
-	 * 2:̶ȳ  valΪ̶ȷΧԭĳ 
-	 * Ŀ̶ȷΧ[50,60,70,80,90,100] ֵ60ĳȣ
-	 * 1ʽΪaxisLen*60/(100-50) 
-	 * 2ʽΪ̶60̶50ĳȣ
+	 * 计算对象值val在轴上长度； 有两种计算方式。
+	 * 1：绝对长度 即val相对于轴刻度范围，所占有的长度，一般用于半径计算。
+	 * 枚举轴是val比系列宽度；日期轴是按val天算长度，数值轴则按val算长度；不分大小与1的情况； 
+	 * 2:刻度长度  即val作为刻度范围在轴上相对于轴原点的长度 
+	 * 举例：轴的刻度范围是[50,60,70,80,90,100] 计算值60的长度，
+	 * 1方式为axisLen*60/(100-50)， 
+	 * 2方式为刻度60到刻度50的长度；
 	 */
 	abstract double getValueLength(Object val, boolean isAbsolute);
 
 	/**
-	 * ڶֵʱתΪֵꡣ
-	 * @param val ҪתĿ̶ֵ
-	 * @return doubleȵֵ
+	 * 用于动画插值计算时，将该轴数据转换为数值坐标。
+	 * @param val 要转换的刻度值
+	 * @return double精度的数值坐标
 	 */
 	public abstract double animateDoubleValue(Object val);
 	
 	/**
-	 * ȡֵvalϵΪ뾶õĳ
+	 * 获取数值val在轴上的作为半径用的长度
 	 * 
-	 * @param val ߼ֵ
+	 * @param val 逻辑数值
 	 * @return 
 	 */
 	public double getValueRadius(double val) {
@@ -844,23 +844,23 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * ȡֵvalϵĳ
+	 * 获取数据值val在轴上的长度
 	 * 
-	 * @param val ֵ
-	 * @return صλĳ
+	 * @param val 数据值
+	 * @return 像素单位的长度
 	 */
 	public double getValueLen(Object val) {
 		return getValueLength(val, false);
 	}
 
 	/**
-	 * ̶ֵλãλĻֵ ֵб任ֵtickValҪȷ任̶ܼλ
+	 * 计算刻度值根据轴所处的位置，位于屏幕的坐标值 由于数值轴有变换，所以数值轴的tickVal要先反变换，才能计算刻度位置
 	 * 
 	 * @param tickVal
 	 * @return
 	 */
 	protected double getTickPosition(Object tickVal) {
-		double len = getValueLength(tickVal, false);// ̶λ
+		double len = getValueLength(tickVal, false);// 计算刻度位置
 		double pos = 0;
 		switch (location) {
 		case Consts.AXIS_LOC_H:
@@ -880,7 +880,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	private void drawRegionStep(int step) {
 		if (!allowRegions)
 			return;
-		// ֻеһҪ˫
+		// 只有第一个区间需要画双边
 		boolean doubleEdge = true;
 
 		ArrayList<ICoor> coorList = e.getCoorList();
@@ -911,11 +911,11 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 					}
 					Object tickVal = t_coorValue.get(t);
 					double tickPosition = getTickPosition(tickVal);
-					// ͬ͵߲ͬλõᣬ̶ȱעλòͬ
+					// 不同类型的轴或者不同位置的轴，刻度标注点起，终位置不同
 					if (t == 1 && tickPosition == getLeftX()) {
 						continue;
 					}
-					if (Utils.setStroke(g, axisColor, scaleStyle, scaleWeight)) { // 3DĿ̶
+					if (Utils.setStroke(g, axisColor, scaleStyle, scaleWeight)) { // 3D轴的刻度线
 						Utils.drawLine(g, tickPosition, yAxis.getBottomY(),
 								tickPosition + coorShift, yAxis.getBottomY()
 										- coorShift);
@@ -969,15 +969,15 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 					if (t != 1
 							&& t != tCount
 							&& Utils.setStroke(g, axisColor, scaleStyle,
-									scaleWeight)) { // 3DĿ̶
-						// ͷ߻ıصͲҪ
-						// ʱƽıǿǰx
+									scaleWeight)) { // 3D轴的刻度线
+						// 两头的线会跟四边形重叠，就不要了
+						// 立体时，平行四边形总是靠近当前轴的x
 						double x1 = xAxis.getLeftX();
 						double x2 = xAxis.getRightX();
-						double thisX = getLeftX(); // ֱx
+						double thisX = getLeftX(); // 垂直轴自身的x
 						double d1 = Math.abs(x1 - thisX);
 						double d2 = Math.abs(x2 - thisX);
-						double x = (d1 < d2) ? x1 : x2; // ˭ýȡ˭
+						double x = (d1 < d2) ? x1 : x2; // 谁离得近就取谁
 						Utils.drawLine(g, x, tickPosition, x + coorShift,
 								tickPosition - coorShift);
 					}
@@ -1015,7 +1015,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 				}
 				TickAxis angleAxis = (TickAxis) pc.getAngleAxis();
 				Point2D orginalPoint = new Point2D.Double(getLeftX(),
-						getBottomY()); // ԭ
+						getBottomY()); // 原点
 				java.awt.geom.Area area1 = null, area2;
 				int tCount = t_coorValue.length();
 				int rc = 0;
@@ -1074,7 +1074,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 							tmpcc = regionColors.chartColorValue(++rc);
 							drawRegion(regionShape, tmpcc, step);
 						}
-					} else { // 
+					} else { // 扇形
 						double x, y, w, h, tmpLen;
 						tmpLen = tickPosition - orginalPoint.getX();
 						x = orginalPoint.getX() - tmpLen;
@@ -1132,7 +1132,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 				}
 				TickAxis polarAxis = (TickAxis) pc.getPolarAxis();
 				Point2D orginalPoint = new Point2D.Double(polarAxis.getLeftX(),
-						polarAxis.getBottomY()); // ԭ
+						polarAxis.getBottomY()); // 原点
 				double angle1 = 0, angle2, polarLen;
 				polarLen = polarAxis.getAxisLength();
 				int tCount = t_coorValue.length();
@@ -1175,7 +1175,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 							tmpcc = regionColors.chartColorValue(++rc);
 							drawRegion(regionShape, tmpcc, step);
 						}
-					} else { // 
+					} else { // 扇形
 						Arc2D sector = new Arc2D.Double(x, y, w, h, angle1,
 								angle2 - angle1, java.awt.geom.Arc2D.PIE);
 
@@ -1203,7 +1203,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * м
+	 * 绘制中间层
 	 */
 	public void draw() {
 		if (!isVisible()) {
@@ -1224,10 +1224,10 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 			switch (location) {
 			case Consts.AXIS_LOC_H:
 			case Consts.AXIS_LOC_POLAR:
-				// ƿ̶
+				// 绘制刻度线
 				y = getBottomY() + coorThick;
 				for (int t = 1; t <= tickSize; t++) {
-					if ((t - 1) % displayStep != 0) { // t-1 1̶ȿʼƣȻټ
+					if ((t - 1) % displayStep != 0) { // t-1， 第1个刻度开始绘制，然后再间隔
 						continue;
 					}
 					x = getTickPosition(t_coorValue.get(t));
@@ -1321,7 +1321,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 				y += scaleLength;
 				y += labelIndent;
 				locationType = Consts.LOCATION_CT;
-			} else { // ޿̶ʱǩĬϻ±ߣ±ã
+			} else { // 交叉和无刻度时，标签默认画在下边，下边最常用；
 				y += scaleLength / 2;
 				y += labelIndent;
 				locationType = Consts.LOCATION_CT;
@@ -1336,7 +1336,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 				x -= scaleLength;
 				x -= labelIndent;
 				locationType = Consts.LOCATION_RM;
-			} else { // ޿̶ʱǩĬϻߣã
+			} else { // 交叉和无刻度时，标签默认画在左边，左边最常用；
 				x -= scaleLength / 2;
 				x -= labelIndent;
 				locationType = Consts.LOCATION_RM;
@@ -1351,7 +1351,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * ǰ
+	 * 绘制前景层
 	 */
 	public void drawFore() {
 		if (!isVisible()) {
@@ -1460,7 +1460,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 			y = getBottomY();
 			if (scalePosition == Consts.TICK_RIGHTUP) {
 				y -= scaleLength;
-				y -= labelIndent * 2; // ǩ֮Ҳճindent
+				y -= labelIndent * 2; // 标题与标签之见也空出indent
 				y -= tmp;
 				y -= titleIndent;
 				locationType = Consts.LOCATION_CB;
@@ -1470,7 +1470,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 				y += tmp;
 				y += titleIndent;
 				locationType = Consts.LOCATION_CT;
-			} else { // ޿̶ʱĬϻ±ߣ±ã
+			} else { // 交叉和无刻度时，标题默认画在下边，下边最常用；
 				y += scaleLength / 2;
 				y += labelIndent * 2;
 				y += tmp;
@@ -1496,7 +1496,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 				x -= tmp;
 				x -= titleIndent;
 				locationType = Consts.LOCATION_RM;
-			} else { // ޿̶ʱĬϻߣã
+			} else { // 交叉和无刻度时，标题默认画在左边，左边最常用；
 				x -= scaleLength / 2;
 				x -= labelIndent * 2;
 				x -= tmp;
@@ -1507,7 +1507,7 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 					locationType, true);
 			break;
 		case Consts.AXIS_LOC_ANGLE:
-			// ⲻ
+			// 角轴标题不绘制
 			break;
 		}
 	}
@@ -1546,26 +1546,26 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * ȡ̶ȱǩĸ߶
-	 * @return رǩߵֵ
+	 * 获取刻度标签的高度
+	 * @return 返回标签中最高的值
 	 */
 	public int maxLabelHeight() {
 		return maxLabelSize(true);
 	}
 
 	/**
-	 * ȡ̶ȱǩĿ
-	 * @return رǩֵ
+	 * 获取刻度标签的宽度
+	 * @return 返回标签中最宽的值
 	 */
 	public int maxLabelWidth() {
 		return maxLabelSize(false);
 	}
 
 	/**
-	 * ȡͼο㣨㣩
-	 * Ĭ£Ϊµ㣬Ŀǰֵ֧ԼΡ
-	 * ֵᣨNumericAxisĻᱻûãֵʱǸ÷
-	 * ûл
+	 * 获取绘图参考点（基点）的坐标
+	 * 默认情况下，基点为坐标的左下点，目前不支持坐标值从上往下以及右往左的情形。
+	 * 数值轴（NumericAxis）的基点会被用户设置，数值轴时覆盖该方法。
+	 * 角轴没有基点
 	 */
 	public Point2D getBasePoint(ICoor coor) {
 		TickAxis otherAxis;
@@ -1588,30 +1588,30 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	transient Sequence t_coorValue = new Sequence();
 	transient int t_coorWidth = 0;
 	transient Engine e;
-	transient double coorThick = 0;// ȱʡ3D̨ĺ
-	transient boolean useGradient = false;// ԸϵͼԪǷʹ˽ɫһЩЧ3Dƽ̨
+	transient double coorThick = 0;// 缺省3D坐标台的厚度
+	transient boolean useGradient = false;// 该属性根据轴上的图元是否使用了渐变色来绘制一些炫效果，比如3D平台
 
 	/**
-	 * ͼ
-	 * @param e ͼ
+	 * 设置图形引擎
+	 * @param e 图形引擎
 	 */
 	public void setEngine(Engine e) {
 		this.e = e;
-		// Ŀǰû֧ParaģҲ֧ʹӳ
+		// 目前的轴属性没有支持Para对象的，也即不支持属性使用映射轴
 	}
 
 	/**
-	 * ȡͼ
-	 * @return ͼ
+	 * 获取图形引擎
+	 * @return 图形引擎
 	 */
 	public Engine getEngine() {
 		return e;
 	}
 
 	/**
-	 * ȽǷ
-	 * ͼΨһģ
-	 * ԣ÷нжǷȣرȽϸԡ
+	 * 比较两个轴是否相等
+	 * 由于图形里面的轴名称是唯一的，
+	 * 所以，该方法中仅用名字来判断是否相等，而不必比较详细属性。
 	 */
 	public boolean equals(Object obj) {
 		if (obj == this)
@@ -1621,18 +1621,18 @@ public abstract class TickAxis extends ObjectElement implements IAxis {
 	}
 
 	/**
-	 * ȡ
+	 * 获取超链接坐标区域
 	 * 
-	 * @return Shape ÷壬null
+	 * @return Shape 该方法无意义，返回null
 	 */
 	public ArrayList<Shape> getShapes() {
 		return null;
 	}
 
 	/**
-	 * ȡ
+	 * 获取超链接
 	 * 
-	 * @return ÷壬null
+	 * @return 该方法无意义，返回null
 	 */
 	public ArrayList<String> getLinks() {
 		return null;
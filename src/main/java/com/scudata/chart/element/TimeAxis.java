@@ -22,20 +22,20 @@ import com.scudata.dm.Sequence;
 import com.scudata.util.Variant;
 
 public class TimeAxis extends ObjectElement implements IAxis{
-	// 
+	// 轴名称
 	public String name;
-	// ԶСֵķΧ
+	// 自动计算最大小值的范围
 	public boolean autoCalcValueRange = true;
-	// 켣
+	// 保留轨迹
 	public boolean keepTrack = true;
 
-	// ʼʱ䣬 ʱΪڣֵ
+	// 起始时间， 时间可以为日期，数值
 	public Object beginTime = 0;
-	// ʱ
+	// 结束时间
 	public Object endTime = 10;
 
 
-	// ͼƬ½ʾע
+	// 图片左下角显示标注
 	public boolean displayMark = true;
 	public String textFont = "Dialog";
 	public int textStyle = new Integer(0);
@@ -47,7 +47,7 @@ public class TimeAxis extends ObjectElement implements IAxis{
 	public String format = null;
 	
 	private transient double t_maxDate=0, t_minDate=Long.MAX_VALUE;
-	private transient boolean isDateType = false;//ǰʱǷͣͬʹòͬformat
+	private transient boolean isDateType = false;//当前时间轴的数据是否日期类型，不同类型使用不同的format
 	public TimeAxis() {
 	}
 
@@ -92,7 +92,7 @@ public class TimeAxis extends ObjectElement implements IAxis{
 			t_maxDate = Math.max(begin, end);
 			t_minDate = Math.min(begin, end);
 		}
-//ʱʱҪȽͼԪݰʱ
+//有时间轴时，需要事先将相关数据图元的数据按时间排序
 		for(DataElement de:dataElements){
 			Sequence posIndex = de.dataTime.psort(null);
 			de.dataTime = de.dataTime.get( posIndex );
@@ -7,7 +7,7 @@ import com.scudata.chart.edit.*;
 import com.scudata.dm.Sequence;
 
 /**
- * ˫ͼ
+ * 双轴柱线图
  * @author Joancy
  *
  */
@@ -23,7 +23,7 @@ public class Graph2Axis extends GraphLine {
 	public byte type = GraphTypes.GT_2YCOLLINE;
 
 	/**
-	 * ȱʡ캯
+	 * 缺省构造函数
 	 */
 	public Graph2Axis() {
 	}
@@ -45,12 +45,12 @@ public class Graph2Axis extends GraphLine {
 	}
 
 	/**
-	 * ȡ༭Ϣб
-	 * @return Ϣб
+	 * 获取编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = super.getParamInfoList();//new ParamInfoList();
-		paramInfos.delete("lineType");//ߵͣ˫治֧
+		paramInfos.delete("lineType");//折线的类型，双轴里面不支持
 		paramInfos.delete("line","drawLineTrend");
 
 		ParamInfo.setCurrent(Graph2Axis.class, this);
@@ -66,7 +66,7 @@ public class Graph2Axis extends GraphLine {
 		return paramInfos;
 	}
 
-//	Ƿָϵ
+//	是否指定了系列所在轴
 	protected boolean isSplitByAxis(){
 		return leftSeries!=null || rightSeries!=null;
 	}
@@ -92,8 +92,8 @@ public class Graph2Axis extends GraphLine {
 	}
 	
 	
-//	Ϊ1 Ϊ2 ˫ͼǸ÷ָϵеȷ
-//	ͨϵָֻһʣµľȫһᣬ߶ָʱ൱û壬ȫжϣΪ1ĶΪ2ǷĶ޹
+//	左轴为1， 右轴为2 双轴图覆盖父类该方法，指定系列到正确的轴
+//	通常系列只需指定一个轴的所属，剩下的就全是另一个轴，两者都指定时，相当于右轴没意义，全部按照左轴判断，满足左轴的为1，其他的都为2，根是否在右轴的定义无关
 	protected byte getSeriesAxis(String serName){
 		if(leftSeries!=null){
 			if(containsName(leftSeries,serName)){
@@ -110,7 +110,7 @@ public class Graph2Axis extends GraphLine {
 				return Consts.AXIS_RIGHT;
 			}
 		}
-//		һᶼûָʱʹȱʡֵ
+//		一个轴都没指定时，使用缺省的左轴值
 		return Consts.AXIS_LEFT;
 	}
 
@@ -31,27 +31,27 @@ import com.scudata.ide.common.control.CellBorder;
 import com.scudata.util.Variant;
 
 /**
- * ͼͼԪ
- * ͼεͨ
+ * 图形图元基类
+ * 定义图形的通用属性
  * @author Joancy
  *
  */
 public class GraphBase extends ObjectElement{
-	// ϵеֵʽ[v1,v2,...,vn]v
+	// 分类和系列的值，格式[v1,v2,...,vn]或v
 	public Sequence categories = null;
-	// ֵУʽ[w1,w2,...,wn]w
+	// 数值序列，格式[w1,w2,...,wn]或w
 	public Sequence values = null;
 
-	/** Χ߿ */
+	/** 外围边框 */
 	public int borderStyle = IStyle.LINE_SOLID;
 	public float borderWidth = 0.75f;
 	public Color borderColor = Color.lightGray;
 	public boolean borderShadow = false;
 
-	/** ͼα */
+	/** 图形标题 */
 	public String graphTitle;
 	public String graphTitleFont;
-//Ʒͼδӱ4ֲģ֧зԲֳΪ
+//成品图形从报表4移植过来的，不支持所有风格，所以拆分出风格为如下两个
 	public boolean graphTitleBold = false;
 	public boolean graphTitleVertical = false;
 	public int graphTitleSize = 16;
@@ -59,7 +59,7 @@ public class GraphBase extends ObjectElement{
 	public int graphTitleAngle = 0;
 	public int graphTitleMargin = 20;
 
-	/** ݱʶ */
+	/** 数据标识 */
 	public String dataFont;// = "Dialog";
 	public boolean dataBold = false;
 	public boolean dataVertical = false;
@@ -70,7 +70,7 @@ public class GraphBase extends ObjectElement{
 	public int displayData2 = IGraphProperty.DISPDATA_NONE;
 	public String displayDataFormat;
 
-	/** ͼ */
+	/** 图例 */
 	public byte legendLocation = IGraphProperty.LEGEND_RIGHT;
 	public int legendVerticalGap = 4;
 	public int legendHorizonGap = 4;
@@ -82,23 +82,23 @@ public class GraphBase extends ObjectElement{
 	public Color legendColor = Color.black;
 	public int legendAngle;
 
-	// 
-	/** ͼǷ͸ */
+	// 其他
+	/** 图形是否透明 */
 	public boolean graphTransparent = false;
-	/** Ƿ񽥱ɫ,עraisedBorderǻ */
+	/** 是否渐变色,注意该属性与raisedBorder是互斥的 */
 	public boolean gradientColor = true;
 	
-	/** ǰNݻͼ */
+	/** 用前N条数据画图 */
 	public int topData;
-	/** ֵǩصʱǷʾһֵǩ */
+	/** 相邻数值或标签重叠时是否显示后一数值或标签 */
 	public boolean showOverlapText = true;
-	/** ɫ */
+	/** 画布背景颜色 */
 	public Color canvasColor = Color.white;
 	public Color legendBorderColor = Color.darkGray;
 
 	/**
-	 * ȡ༭Ϣб
-	 * @return Ϣб
+	 * 获取编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -179,24 +179,24 @@ public class GraphBase extends ObjectElement{
 	}
 
 	/**
-	 * ͼǷɼ
-	 * @return ɼʱtrue򷵻false
+	 * 图形是否可见
+	 * @return 可见时返回true，否则返回false
 	 */
 	public boolean isVisible() {
 		return true;
 	}
 
 	/**
-	 * ͼԪػǰֵʼڳʼֵͼԪȺã
-	 * Ҫȳʼٿʼͼ 
+	 * 图元的重画前数值初始化，由于初始化值在图元绘制中有先后引用，
+	 * 所以要先初始化，再开始画图 
 	 */
 	public void beforeDraw() {
 	} 
 
 	/**
-	 * Ʊ
-	 * עڱӦеɫӰȣԷǺĲ㡣
-	 * ò㲻ܻ߼ 
+	 * 绘制背景层
+	 * 注意在背景层应绘制所有的填充色，阴影等，以防覆盖后续的层。
+	 * 该层不能绘线及文字 
 	 */
 	public void drawBack() {
 	} 
@@ -230,7 +230,7 @@ public class GraphBase extends ObjectElement{
 			return null;
 	}
 
-	// ͼθԼԣPublicProperty󷵻ظGraphElement.
+	// 子图形根据自己的属性，构建PublicProperty对象返回给GraphElement.
 	protected PublicProperty getPublicProperty() {
 		PublicProperty pp = new PublicProperty();
 		pp.setBorder((byte) borderStyle, borderWidth, borderColor,
@@ -266,7 +266,7 @@ public class GraphBase extends ObjectElement{
 		return false;
 	}
 	
-//	Ϊ1 Ϊ2
+//	左轴为1， 右轴为2
 	protected byte getSeriesAxis(String serName){
 		return Consts.AXIS_LEFT;
 	}
@@ -329,7 +329,7 @@ public class GraphBase extends ObjectElement{
 					String serName = Variant.toString( serNames.get(s));
 					egs.setName( serName );
 					int index = Utils.indexOf(categories, catName, serName);
-					if (index == 0) { // ĳϵеֵȱ
+					if (index == 0) { // 某个分类和系列的数值缺少
 						continue;
 					}
 					egs.setValue( (Number)values.get(index));
@@ -346,7 +346,7 @@ public class GraphBase extends ObjectElement{
 	}
 
 	/**
-	 * м
+	 * 绘制中间层
 	 */
 	public void draw() {
 		PublicProperty pp = getPublicProperty();
@@ -365,7 +365,7 @@ public class GraphBase extends ObjectElement{
 		Graphics2D g = e.getGraphics();
 		int w = e.getW();
 		int h = e.getH();
-		if (i != 16777215) { // ͸ɫ򻭵װɫ
+		if (i != 16777215) { // 如果不是透明色则画底版色
 			if (pp.getBorderShadow()) {
 				g.setBackground( Color.LIGHT_GRAY );
 				g.clearRect(dShadow, dShadow, w , h);
@@ -408,14 +408,14 @@ public class GraphBase extends ObjectElement{
 	}
 
 	/**
-	 * ǰ
-	 * ǰͼεıߣԼ 
+	 * 绘制前景层
+	 * 前景层绘制图形的边线，以及文字 
 	 */
 	public void drawFore() {
 	} 
 
 	/**
-	 * ͼǰݻ׼
+	 * 绘制图形前的数据环境准备
 	 */
 	public void prepare() {
 		Utils.setParamsEngine(this);
@@ -424,23 +424,23 @@ public class GraphBase extends ObjectElement{
 	protected transient Engine e;
 
 	/**
-	 * ͼ
-	 * @param e ͼ
+	 * 设置图形引擎
+	 * @param e 图形引擎
 	 */
 	public void setEngine(Engine e) {
 		this.e = e;
 	}
 
 	/**
-	 * ȡͼ
-	 * @return ͼ
+	 * 获取图形引擎
+	 * @return 图形引擎
 	 */
 	public Engine getEngine() {
 		return e;
 	}
 
 	/**
-	 * ȡ״
+	 * 获取超链接区域形状
 	 * @return null
 	 */
 	public ArrayList<Shape> getShapes() {
@@ -448,7 +448,7 @@ public class GraphBase extends ObjectElement{
 	}
 
 	/**
-	 * ȡ
+	 * 获取超链接
 	 * @return null
 	 */
 	public ArrayList<String> getLinks() {
@@ -8,7 +8,7 @@ import com.scudata.chart.*;
 import com.scudata.chart.edit.*;
 
 /** 
- * ͼͼ
+ * 柱形图或条形图
  * 
  */
 public class GraphColumn extends GraphElement {
@@ -16,10 +16,10 @@ public class GraphColumn extends GraphElement {
 	public int barDistance;
 
 	public byte columnType = GraphTypes.GT_COL; 
-	public Color columnBorderColor = null;//ɫΪnullʾΪ͸ɫ
+	public Color columnBorderColor = null;//颜色设置为null表示为透明色；
 
 	/**
-	 * ȱʡ캯
+	 * 缺省参数构造函数
 	 */
 	public GraphColumn() {
 	}
@@ -34,8 +34,8 @@ public class GraphColumn extends GraphElement {
 	}
 
 	/**
-	 * ȡ༭Ϣб
-	 * @return Ϣб
+	 * 获取编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -13,9 +13,9 @@ import com.scudata.chart.edit.*;
 import com.scudata.dm.*;
 import com.scudata.util.Variant;
 
-//ͼͼԪ
+//图形图元
 public class GraphElement extends GraphBase {
-	/**  */
+	/** 横轴标题 */
 	public String xTitle;
 	public String xTitleFont;// = "Dialog";
 	public boolean xTitleBold = false;
@@ -24,7 +24,7 @@ public class GraphElement extends GraphBase {
 	public Color xTitleColor = Color.black;
 	public int xTitleAngle = 0;
 
-	/**  */
+	/** 纵轴标题 */
 	public String yTitle;
 	public String yTitleFont;// = "Dialog";
 	public boolean yTitleBold = false;
@@ -33,7 +33,7 @@ public class GraphElement extends GraphBase {
 	public Color yTitleColor = Color.black;
 	public int yTitleAngle;
 
-	/** ǩ */
+	/** 横轴标签 */
 	public String xLabelFont;// = "Dialog";
 	public boolean xLabelBold = false;
 	public boolean xLabelVertical = false;
@@ -42,7 +42,7 @@ public class GraphElement extends GraphBase {
 	public int xLabelAngle = 0;
 	public int xLabelInterval = 0;
 
-	/**  */
+	/** 纵轴 */
 	public String yLabelFont;// = "Dialog";
 	public boolean yLabelBold = false;
 	public boolean yLabelVertical = false;
@@ -55,25 +55,25 @@ public class GraphElement extends GraphBase {
 	public double dataUnit = IGraphProperty.UNIT_ORIGIN;
 	public int yMinMarks = 2;
 
-	// 
-	/**  */
+	// 网格线
+	/** 网格线类型 */
 	public int gridLineType = Consts.LINE_DASHED;
-	/** ɫ */
+	/** 网格线颜色 */
 	public Color gridLineColor = Color.lightGray;
 
-	/* ߶ */
+	/* 警戒线定义 */
 	public Para warnLineStyle = new Para(new Integer(Consts.LINE_DASHED));
 	public Para warnLineWeight = new Para(new Float(1));
 	public Para warnLineColor = new Para(Color.red);
 	public Sequence warnLineData = null;
 
-	/** ɫ */
+	/** 坐标轴颜色 */
 	public Color axisTopColor = Color.white;
 	public Color axisBottomColor = Color.lightGray;
 	public Color axisLeftColor = Color.lightGray;
 	public Color axisRightColor = Color.white;
 
-	/** ͼɫ */
+	/** 图形区背景颜色 */
 	public Color graphBackColor = Color.white;
 
 	public ParamInfoList getParamInfoList() {
@@ -195,7 +195,7 @@ public class GraphElement extends GraphBase {
 		return als;
 	}
 
-	// ͼθԼԣPublicProperty󷵻ظGraphElement.
+	// 子图形根据自己的属性，构建PublicProperty对象返回给GraphElement.
 	protected PublicProperty getPublicProperty() {
 		PublicProperty pp = super.getPublicProperty();
 		pp.setXTitle(xTitle);
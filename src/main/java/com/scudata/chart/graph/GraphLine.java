@@ -6,7 +6,7 @@ import com.scudata.chart.*;
 import com.scudata.chart.edit.*;
 
 /**
- * ͼ
+ * 折线图形
  * 
  * @author Joancy
  *
@@ -16,13 +16,13 @@ public class GraphLine extends GraphElement {
 	public boolean drawLineTrend = false;
 	public boolean drawShade = false;
 	public boolean ignoreNull = true;
-	/** ͼֱߴϸ */
+	/** 折线图直线粗细度 */
 	public int lineThick = 2;
 	public int lineStyle = Consts.LINE_SOLID;
 	public byte lineType = GraphTypes.GT_LINE; 
 
 	/**
-	 * ȱʡ캯
+	 * 缺省参数构造函数
 	 */
 	public GraphLine() {
 	}
@@ -41,8 +41,8 @@ public class GraphLine extends GraphElement {
 	}
 
 	/**
-	 * ȡ༭Ϣб
-	 * @return Ϣб
+	 * 获取编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
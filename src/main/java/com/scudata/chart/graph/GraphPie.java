@@ -8,22 +8,22 @@ import com.scudata.chart.*;
 import com.scudata.chart.edit.*;
 
 /**
- * ͼ
+ * 饼图
  * 
  * @author Joancy
  *
  */
 public class GraphPie extends GraphBase {
-	/** ͼǷһʾ */
+	/** 饼图中是否分离出一扇显示 */
 	public boolean pieSpacing = true;
-	public int pieRotation = 50; /* ռĳȰٷֱ */
-	public int pieHeight = 70; /* ͼĸ߶ռ뾶İٷֱ<=100 */
+	public int pieRotation = 50; /* 纵轴占横轴的长度百分比 */
+	public int pieHeight = 70; /* 饼型图的高度占半径的百分比<=100 */
 	
 	public byte pieType = GraphTypes.GT_PIE; 
 	public Color pieJoinLineColor = Color.lightGray;
 
 	/**
-	 * ȱʡ캯
+	 * 缺省参数构造函数
 	 */
 	public GraphPie() {
 	}
@@ -40,8 +40,8 @@ public class GraphPie extends GraphBase {
 	}
 
 	/**
-	 * ȡ༭Ϣб
-	 * @return Ϣб
+	 * 获取编辑参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -6,29 +6,29 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
 /**
- * ࣬ʾһ
+ * 区域类，表示一块区域
  */
 public class Area implements ICloneable, Externalizable, Cloneable,
 		Comparable<Area>, IRecord {
 	private static final long serialVersionUID = 1l;
-	/** shortĳint */
+	/** 列类型由short改成了int */
 	private static byte version = (byte) 2;
 
-	/** ʼкţк */
+	/** 起始行号，结束行号 */
 	private int r1 = -1, r2 = -1;
-	/** ʼкţк */
+	/** 起始列号，结束列号 */
 	private int c1 = -1, c2 = -1;
 
 	public Area() {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param r1
-	 *            int ʼк
+	 *            int 起始行号
 	 * @param r2
-	 *            int к
+	 *            int 结束行号
 	 */
 	public Area(int r1, int r2) {
 		this.r1 = r1;
@@ -36,16 +36,16 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param r1
-	 *            int ʼк
+	 *            int 起始行号
 	 * @param c1
-	 *            int ʼк
+	 *            int 起始列号
 	 * @param r2
-	 *            int к
+	 *            int 结束行号
 	 * @param c2
-	 *            int к
+	 *            int 结束列号
 	 */
 	public Area(int r1, int c1, int r2, int c2) {
 		this.r1 = r1;
@@ -56,7 +56,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * ȡʼк
+	 * 取得起始行号
 	 * 
 	 * @return int
 	 */
@@ -65,17 +65,17 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * ʼк
+	 * 设置起始行号
 	 * 
 	 * @param r
-	 *            int к
+	 *            int 行号
 	 */
 	public void setBeginRow(int r) {
 		this.r1 = r;
 	}
 
 	/**
-	 * õк
+	 * 得到结束行号
 	 * 
 	 * @return int
 	 */
@@ -84,7 +84,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * ýк
+	 * 设置结束行号
 	 * 
 	 * @param r
 	 *            int
@@ -94,7 +94,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * ȡʼк
+	 * 取得起始列号
 	 * 
 	 * @return int
 	 */
@@ -103,7 +103,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * ʼк
+	 * 设置起始列号
 	 * 
 	 * @param c
 	 *            int
@@ -113,7 +113,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * ȡýк
+	 * 取得结束列号
 	 * 
 	 * @return int
 	 */
@@ -122,7 +122,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * ýк
+	 * 设置结束列号
 	 * 
 	 * @param c
 	 *            int
@@ -139,7 +139,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * һбȽϣαȽʼСʼССУ ȽϹдڲ򷵻򷵻0
+	 * 与另一个区域对象进行比较，依次比较起始行、起始列、结束行、结束列， 若比较过程中存在不相等则返回其差，否则返回0
 	 * 
 	 * @param other
 	 *            Area
@@ -162,7 +162,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * жrow,colǷڵǰ
+	 * 判断row,col是否在当前区域内
 	 * 
 	 * @param row
 	 *            int
@@ -175,7 +175,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * Ƿһ
+	 * 是否包含另一区域
 	 * 
 	 * @param a
 	 *            Area
@@ -189,7 +189,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * л
+	 * 序列化输出本类
 	 * 
 	 * @param out
 	 *            ObjectOutput
@@ -204,7 +204,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * л뱾
+	 * 序列化输入本类
 	 * 
 	 * @param in
 	 *            ObjectInput
@@ -221,7 +221,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * л
+	 * 序列化输出本类
 	 * 
 	 * @return ObjectOutput
 	 * @throws IOException
@@ -236,7 +236,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * л뱾
+	 * 序列化输入本类
 	 * 
 	 * @param buf
 	 *            byte[]
@@ -253,7 +253,7 @@ public class Area implements ICloneable, Externalizable, Cloneable,
 	}
 
 	/**
-	 * ¡
+	 * 克隆本类
 	 * 
 	 * @return Object
 	 */
@@ -3,48 +3,48 @@ package com.scudata.common;
 import java.util.Enumeration;
 
 /**
- * ڲַĬϵķָΪ
- * ָʱ˫ָڵķָ
- * رע⣺հ״һǣֵҲΪհ״
+ * 本类用于拆分字符串，默认的分隔符为逗号
+ * 分割时将跳过单双引号与指定种类括号内的分隔符
+ * 特别注意：空白串中有一个标记，其值也为空白串
  * @author RunQian
  *
  */
 public final class ArgumentTokenizer implements Enumeration<String> {
-	private String str; // Դ
-	private int len; // 
-	private int index; // ǰָλ
-	private char delim = ','; // ָĬΪ
-
-	private boolean parentheses = false; // ǷԲڵķָ
-	private boolean brackets = false; // Ƿڵķָ
-	private boolean braces = false; // ǷԻڵķָ
-	private boolean singleQuotation = false; // ǷԵڵķָ
+	private String str; // 源串
+	private int len; // 长度
+	private int index; // 当前分割的位置
+	private char delim = ','; // 分隔符，默认为逗号
+
+	private boolean parentheses = false; // 是否忽略圆括号内的分隔符
+	private boolean brackets = false; // 是否忽略中括号内的分隔符
+	private boolean braces = false; // 是否忽略花括号内的分隔符
+	private boolean singleQuotation = false; // 是否忽略单引号内的分隔符
 	
-	private boolean count; // ֻȡȡָӴ
+	private boolean count; // 只取数量，不取分割后的子串
 
 	/**
-	 * ΪַָһָȱʡָΪ','
-	 * @param s ַָ
+	 * 为指定字符串构造一个参数分割器。缺省分隔符为','。
+	 * @param s 指定的字符串
 	 */
 	public ArgumentTokenizer(String s) {
 		this(s, ',', false, false, false);
 	}
 
 	/**
-	 * Ϊַָһָ
-	 * @param s ַָ
-	 * @param delim ָķָ
+	 * 为指定字符串构造一个参数分割器
+	 * @param s 指定的字符串
+	 * @param delim 指定的分隔符
 	 */
 	public ArgumentTokenizer(String s, char delim) {
 		this(s, delim, false, false, false);
 	}
 
 	/**
-	 * Ϊַָһָ
-	 * @param s ַָ
-	 * @param ignoreParentheses Բڵķָ
-	 * @param ignoreBrackets ڵķָ
-	 * @param ignoreBraces Իڵķָ
+	 * 为指定字符串构造一个参数分割器
+	 * @param s 指定的字符串
+	 * @param ignoreParentheses 忽略圆括号内的分隔符
+	 * @param ignoreBrackets 忽略中括号内的分隔符
+	 * @param ignoreBraces 忽略花括号内的分隔符
 	 */
 	public ArgumentTokenizer(String s, boolean ignoreParentheses,
 			boolean ignoreBrackets, boolean ignoreBraces) {
@@ -52,12 +52,12 @@ public final class ArgumentTokenizer implements Enumeration<String> {
 	}
 
 	/**
-	 * Ϊַָһָ
-	 * @param s ַָ
-	 * @param delim ָķָ
-	 * @param ignoreParentheses Բڵķָ
-	 * @param ignoreBrackets ڵķָ
-	 * @param ignoreBraces Իڵķָ
+	 * 为指定字符串构造一个参数分割器
+	 * @param s 指定的字符串
+	 * @param delim 指定的分隔符
+	 * @param ignoreParentheses 忽略圆括号内的分隔符
+	 * @param ignoreBrackets 忽略中括号内的分隔符
+	 * @param ignoreBraces 忽略花括号内的分隔符
 	 */
 	public ArgumentTokenizer(String s, char delim, boolean ignoreParentheses,
 			boolean ignoreBrackets, boolean ignoreBraces) {
@@ -65,13 +65,13 @@ public final class ArgumentTokenizer implements Enumeration<String> {
 	}
 
 	/**
-	 * Ϊַָһָ
-	 * @param s ַָ
-	 * @param delim ָķָ
-	 * @param ignoreParentheses Բڵķָ
-	 * @param ignoreBrackets ڵķָ
-	 * @param ignoreBraces Իڵķָ
-	 * @param ignoreSingleQuotation Եڵķָ
+	 * 为指定字符串构造一个参数分割器
+	 * @param s 指定的字符串
+	 * @param delim 指定的分隔符
+	 * @param ignoreParentheses 忽略圆括号内的分隔符
+	 * @param ignoreBrackets 忽略中括号内的分隔符
+	 * @param ignoreBraces 忽略花括号内的分隔符
+	 * @param ignoreSingleQuotation 忽略单引号内的分隔符
 	 */
 	public ArgumentTokenizer(String s, char delim, boolean ignoreParentheses,
 			boolean ignoreBrackets, boolean ignoreBraces,
@@ -87,10 +87,10 @@ public final class ArgumentTokenizer implements Enumeration<String> {
 	}
 
 	/**
-	 * ȡһ
-	 * @return ַΪnull򷵻nullhasNext()hasMoreTokens()Ϊ棬򷵻
-	 *         ָָı(ǿմմ)򷵻null ƥ(/˫)򷵻źַ
-	 *         ǰת\Ų
+	 * 取下一个标记
+	 * @return 若字符串为null，则返回null。若hasNext()或hasMoreTokens()为真，则返回
+	 *         分割符分割的标记(非空串或空串)，否则返回null。 若不匹配的引号(单/双)则返回引号后的所有字符
+	 *         若引号前转义符\，则此引号不起引号作用
 	 * 
 	 */
 	public String next() {
@@ -153,26 +153,26 @@ public final class ArgumentTokenizer implements Enumeration<String> {
 	}
 
 	/**
-	 * ȡһ
-	 * @return ַΪnull򷵻nullhasMoreTokens()Ϊ棬򷵻طָָ
-	 *         ı(ǿմմ)򷵻null
+	 * 取下一个标记
+	 * @return 若字符串为null，则返回null。若hasMoreTokens()为真，则返回分割符分割
+	 *         的标记(非空串或空串)，否则返回null。
 	 */
 	public String nextToken() {
 		return next();
 	}
 
 	/**
-	 * ȡһ
-	 * @return ַΪnull򷵻nullhasMoreTokens()Ϊ棬򷵻طָָ
-	 *         ı(ǿմմ)򷵻null
+	 * 取下一个标记
+	 * @return 若字符串为null，则返回null。若hasMoreTokens()为真，则返回分割符分割
+	 *         的标记(非空串或空串)，否则返回null。
 	 */
 	public String nextElement() {
 		return next();
 	}
 
 	/**
-	 * ַָδʱǵĸ
-	 * @return ַб
+	 * 计算指定字符串中所有未访问标记的个数。
+	 * @return 字符串中标记数
 	 */
 	public int countTokens() {
 		int j = index;
@@ -187,24 +187,24 @@ public final class ArgumentTokenizer implements Enumeration<String> {
 	}
 
 	/**
-	 * Ƿб
-	 * @return бǷtrue򷵻false
+	 * 检查是否还有标记
+	 * @return 还有标记返回true，否则返回false
 	 */
 	public boolean hasNext() {
 		return index <= len;
 	}
 
 	/**
-	 * Ƿб
-	 * @return бǷtrue򷵻false
+	 * 检查是否还有标记
+	 * @return 还有标记返回true，否则返回false
 	 */
 	public boolean hasMoreTokens() {
 		return hasNext();
 	}
 
 	/**
-	 * Ƿб
-	 * @return бǷtrue򷵻false
+	 * 检查是否还有标记
+	 * @return 还有标记返回true，否则返回false
 	 */
 	public boolean hasMoreElements() {
 		return hasNext();
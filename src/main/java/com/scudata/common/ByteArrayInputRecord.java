@@ -5,7 +5,7 @@ import java.util.*;
 import java.math.*;
 
 /**
- * ڰֽɶ󣬿ֶ֧ȡͬ汾򱣴
+ * 用于把字节流读成对象，可以支持读取不同版本程序保存的数据
  * @author RunQian
  *
  */
@@ -260,7 +260,7 @@ public class ByteArrayInputRecord {
 		}
 	}
 
-	// Ҫ޷ȡݷַ޷ж϶ƣֻbyte[]
+	// 不要随便用这个方法，用这个方法无法获取非数据非字符串对象，由于无法判断对象具体类名称，所以只读出byte[]
 	public Object readObject(boolean test) throws IOException, ClassNotFoundException {
 		int b = readByte();
 		switch (b) {
@@ -272,7 +272,7 @@ public class ByteArrayInputRecord {
 			try {
 				rec = (IRecord) Class.forName(className).newInstance();
 			} catch (Exception e) {
-				// ·com.raqsoft޸Ϊcom.scudataɰĶõIRecord
+				// 包路径由com.raqsoft修改为了com.scudata，旧包保存的对象可能用到了IRecord的派生类
 				if (className.startsWith("com.raqsoft.")) {
 					try {
 						className = "com.scudata." + className.substring(12);
@@ -570,7 +570,7 @@ public class ByteArrayInputRecord {
 		}
 	}
 
-	// Ҫ޷ȡݷַ޷ж϶ƣֻbyte[]
+	// 不要随便用这个方法，用这个方法无法获取非数据非字符串对象，由于无法判断对象具体类名称，所以只读出byte[]
 	public Object readObject2(boolean test) throws IOException, ClassNotFoundException, EOFException {
 		if (in.available() > 0) {
 			int b = readByte();
@@ -5,7 +5,7 @@ import java.util.*;
 import java.math.*;
 
 /**
- * ڰѶֶֽ֧ȡͬ汾򱣴
+ * 用于把对象输出成字节流，可以支持读取不同版本程序保存的数据
  * 
  * @author RunQian
  *
@@ -199,7 +199,7 @@ public class ByteArrayOutputRecord {
 		}
 	}
 
-	// writeObjectҪ׵ãʱݷַпܻᰴnull
+	// writeObject不要轻易调用，调用时，如果遇到非数据非字符串对象，有可能会按null处理
 	public void writeObject(Object o, boolean test) throws IOException {
 		if (o == null) {
 			out.write(-1);
@@ -208,7 +208,7 @@ public class ByteArrayOutputRecord {
 			writeString(o.getClass().getName());
 			writeRecord((IRecord) o);
 		} else if (o instanceof String) {
-			// edited by bd, 2017.3.24, ַȳ65535
+			// edited by bd, 2017.3.24, 处理字符串长度超过65535的情况
 			String s = (String) o;
 			int len = s.length();
 			if (len > 65535) {
@@ -263,7 +263,7 @@ public class ByteArrayOutputRecord {
 			out.write(12);
 			writeShort(((Short) o).shortValue());
 		} else {
-			// һObjectnull
+			// 对一般Object，作null处理
 			out.write(-1);
 			// out.writeObject( o );
 		}
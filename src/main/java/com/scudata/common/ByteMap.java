@@ -6,29 +6,29 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
 /**
- *	ByteMap --- ʹbyteΪkeyMap
- *	˹ϣɵģҪ¼Ŀģ
- *		(1)ʡڴ
- *		(2)ݲ̫
- *		(3)put,get,keysȲԶremove
- *	ע⣺
- *		(1)removeĳɱȽϸ
- *		(2)ʹ±ѭУԱputremoveclear޸Բʱλñ仯ArrayList
+ *	ByteMap --- 使用byte作为key的轻量级Map
+ *	此哈希表是用数组完成的，它主要基于以下几个目的：
+ *		(1)节省内存
+ *		(2)数据不是太多
+ *		(3)put,get,keys等操作远多于remove操作
+ *	注意：
+ *		(1)remove操作的成本比较高
+ *		(2)在使用下标循环过程中，对本类对象进行put、remove、clear等修改性操作时数据位置变化情况类似于ArrayList
  */
 public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	private static final long serialVersionUID = 1l;
 
-	//hash
+	//hash表数据
 	private transient byte[] keys;
 	private transient Object[] objs;
 
-	//hash
+	//hash表中入口总数
 	private transient short count;
 
 	/*
-	 * ָʼһյMap
-	 * @param initialCapacity ʼ
-	 * @exception IllegalArgumentException ʼС0
+	 * 用指定初始容量构造一个空的Map
+	 * @param initialCapacity 初始容量
+	 * @exception IllegalArgumentException 假如初始容量小于0
 	 */
 	public ByteMap(short initialCapacity) {
 		if (initialCapacity < 0) {
@@ -39,15 +39,15 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * һMapʼΪ11
+	 * 构造一个空Map，初始容量为11
 	 */
 	public ByteMap() {
 		this( (short) 11);
 	}
 
 	/**
-	 * ȷٵֵָ
-	 * @param minCapacity ָС
+	 * 确保容量至少等于指定值
+	 * @param minCapacity 指定的最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 		if (minCapacity > keys.length) {
@@ -61,21 +61,21 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * Ԫظ
+	 * 返回元素个数
 	 */
 	public short size() {
 		return count;
 	}
 
 	/*
-	 * ǷΪ
+	 * 检查是否为空
 	 */
 	public boolean isEmpty() {
 		return count == 0;
 	}
 
 	/**
-	 * ʵʴС
+	 * 将容量缩减到实际大小
 	 */
 	public void trimToSize() {
 		if (count < keys.length) {
@@ -89,8 +89,8 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * MapǷָvalue
-	 * @param value Ҫҵvalue
+	 * 检查Map中是否有指定value
+	 * @param value 需要查找的value
 	 * @see ByteMap#containsKey
 	 */
 	public boolean contains(Object value) {
@@ -106,8 +106,8 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * MapǷָkey
-	 * @param key Ҫҵkey
+	 * 检查Map中是否有指定的key
+	 * @param key 要查找的key
 	 * @see ByteMap#contains
 	 */
 	public boolean containsKey(byte key) {
@@ -121,8 +121,8 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * ȡMapָkeyӦvalue
-	 * @param key ָkey
+	 * 取Map中与指定key对应的value
+	 * @param key 指定的key
 	 * @see ByteMap#put
 	 */
 	public Object get(byte key) {
@@ -136,9 +136,9 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * ָkeyָvalueMap
-	 * @param key ָkey
-	 * @param value ָvalue
+	 * 把指定的key与指定的value放入Map
+	 * @param key 指定的key
+	 * @param value 指定的value
 	 * @see ByteMap#get
 	 */
 	public Object put(byte key, Object value) {
@@ -167,8 +167,8 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * һByteMapе뱾ByteMapkeyظ򸲸
-	 * @param bam һByteMap
+	 * 加入另一个ByteMap中的所有项，若与本ByteMap中key有重复则覆盖
+	 * @param bam 另一个ByteMap
 	 */
 	public void putAll(IByteMap bm) {
 		ensureCapacity(count + bm.size());
@@ -178,9 +178,9 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * ߶ӦָkeyԪأָkeyڣֱӷ
-	 * @param key ָkey
-	 * @return ָkeyӦvaluekeyڣ򷵻null
+	 * 移走对应于指定key的元素，若指定的key不存在，则直接返回
+	 * @param key 指定的key
+	 * @return 指定key对应的value，若key不存在，则返回null
 	 */
 	public Object remove(byte key) {
 		byte[] keys = this.keys;
@@ -193,9 +193,9 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ָkeyvalue׷ӵByteMapУע˷ͬkey
-	 * @param key ָkey
-	 * @param value ָvalue
+	 * 将指定的key与value追加到本ByteMap中，注意此方法不覆盖相同key的项
+	 * @param key 指定的key
+	 * @param value 指定的value
 	 */
 	public void add(byte key, Object value) {
 		byte[] keys = this.keys;
@@ -213,8 +213,8 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * һByteMapе׷ӵByteMap;ע˷ͬkey
-	 * @param bm һByteMap
+	 * 将另一个ByteMap中的项追加到本ByteMap中;注意此方法不覆盖相同key的项
+	 * @param bm 另一个ByteMap
 	 */
 	public void addAll(IByteMap bm) {
 		ensureCapacity(count + bm.size());
@@ -224,9 +224,9 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * λɾ
-	 * @param index λ
-	 * @return ָλõvalue
+	 * 按照位置删除项
+	 * @param index 位置
+	 * @return 返回指定位置的value
 	 */
 	public Object removeEntry(int index) {
 		byte[] keys = this.keys;
@@ -240,24 +240,24 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * λȡöӦkey
-	 * @param index λ
+	 * 按照位置取得对应的key
+	 * @param index 位置
 	 */
 	public byte getKey(int index) {
 		return keys[index];
 	}
 
 	/*
-	 * λȡöӦvalue
-	 * @param index λ
+	 * 按照位置取得对应的value
+	 * @param index 位置
 	 */
 	public Object getValue(int index) {
 		return objs[index];
 	}
 
 	/*
-	 * ȡMapָkeyӦindex,Ҳָkey򷵻-1
-	 * @param key ָkey
+	 * 取Map中与指定key对应的index,如果找不到指定的key则返回-1
+	 * @param key 指定的key
 	 */
 	public int getIndex(byte key){
 		byte[] keys = this.keys;
@@ -270,8 +270,8 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * ָindexӦvalueMap
-	 * @param index ָindex
+	 * 把指定的index对应的value放入Map
+	 * @param index 指定的index
 	 * @see ByteMap#setValue
 	 */
 	public void setValue(int index,Object value){
@@ -279,17 +279,17 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ظֻһ
+	 * 清除键重复的项，只保留最后一个
 	 */
 	public void purgeDupKeys() {
 		byte[] keys = this.keys;
 		Object[] objs = this.objs;
 		short oldCount = this.count, newCount = oldCount;
-		int x = oldCount - 2;  //ǰ洢λ
+		int x = oldCount - 2;  //当前存储位置
 		for( int i = x; i >= 0; i -- ) {
 			int j = oldCount - 1;
 			for( ; j > x; j -- ) {
-				if ( keys[i] == keys[j] ) { //ظʱ
+				if ( keys[i] == keys[j] ) { //键重复时
 					newCount --;
 					break;
 				}
@@ -309,15 +309,15 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ֵΪnull
+	 * 清除值为null的项
 	 */
 	public void purgeNullValues(){
 		byte[] keys = this.keys;
 		Object[] objs = this.objs;
 		short oldCount = this.count, newCount = oldCount;
-		int x = oldCount - 1;   //ǰ洢λ
+		int x = oldCount - 1;   //当前存储位置
 		for( int i = x; i >= 0; i -- ) {
-			if ( objs[i] == null ) { //ֵΪnullʱ
+			if ( objs[i] == null ) { //值为null时
 				newCount --;
 			} else  {
 				if ( x != i ) {
@@ -336,7 +336,7 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * Map
+	 * 清空Map
 	 */
 	public void clear() {
 		count = 0;
@@ -346,7 +346,7 @@ public class ByteMap implements IByteMap, ICloneable, Externalizable, IRecord {
 	}
 
 	/*
-	 * ȿ¡Map
+	 * 深度克隆Map
 	 */
 	public Object deepClone() {
 		short count = this.count;
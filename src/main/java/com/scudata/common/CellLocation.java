@@ -3,7 +3,7 @@ package com.scudata.common;
 import java.io.*;
 
 /**
- * ӦԪıʾ
+ * 本类对应单元格的标示
  */
 public class CellLocation implements java.io.Serializable, IRecord {
 	private static final long serialVersionUID = 0x00010001;
@@ -13,7 +13,7 @@ public class CellLocation implements java.io.Serializable, IRecord {
 	private int row = -1;
 	private int col = -1;
 
-	// ʱʹ
+	// 存盘时使用
 	public CellLocation() {
 	}
 
@@ -111,7 +111,7 @@ public class CellLocation implements java.io.Serializable, IRecord {
 	}
 
 	/**
-	 * ַתк
+	 * 将字符串转成列号
 	 * @param id String
 	 * @return int
 	 */
@@ -132,7 +132,7 @@ public class CellLocation implements java.io.Serializable, IRecord {
 	}
 
 	/**
-	 * ַתк
+	 * 将字符串转成行号
 	 * @param id String
 	 * @return int
 	 */
@@ -152,7 +152,7 @@ public class CellLocation implements java.io.Serializable, IRecord {
 		return row;
 	}
 
-	//ԪıʾתΪкк
+	//单元格的标示转换为行号列号
 	public static CellLocation parse(String id) {
 		if (id == null) {
 			return null;
@@ -212,7 +212,7 @@ public class CellLocation implements java.io.Serializable, IRecord {
 	}
 
 	/**
-	 * ккתΪԪıʾ
+	 * 根据行号列号转换为单元格的标示
 	 * @param row int
 	 * @param col int
 	 * @return String
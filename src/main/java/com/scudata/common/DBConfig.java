@@ -15,8 +15,8 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * Դ
-   *@param dbType ݿͣμDBTypes
+   * 构造数据源的配置
+   *@param dbType 数据库类型，参见DBTypes
    */
   public DBConfig(int dbType) {
     super(dbType);
@@ -38,37 +38,37 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * 趨
-   * @param driver String ·
+   * 设定数据连接驱动类
+   * @param driver String 数据连接驱动类路径
    */
   public void setDriver(String driver) {
     this.driver = driver;
   }
 
   /**
-   * ȡ
+   * 获取数据连接驱动类
    */
   public String getDriver() {
     return driver;
   }
 
   /**
-   * 趨·
-   * @param url String ·
+   * 设定数据连接路径
+   * @param url String 连接路径
    */
   public void setUrl(String url) {
     this.url = url;
   }
 
   /**
-   * ȡ·
+   * 获取数据连接路径
    */
   public String getUrl() {
     return url;
   }
 
   /**
-   * 趨û
+   * 设定用户名
    * @param user String
    */
   public void setUser(String user) {
@@ -76,7 +76,7 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * ȡû
+   * 获取用户名
    * @return String
    */
   public String getUser() {
@@ -84,7 +84,7 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * 趨
+   * 设定密码
    * @param password String
    */
   public void setPassword(String password) {
@@ -92,7 +92,7 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * ȡ
+   * 获取密码
    * @return String
    */
   public String getPassword() {
@@ -100,7 +100,7 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * 趨Ƿʹôģʽı
+   * 设定是否使用带模式的表
    * @param useSchema boolean
    */
   public void setUseSchema(boolean useSchema) {
@@ -108,7 +108,7 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * ȡǷʹôģʽı
+   * 获取是否使用带模式的表
    * @param info Properties
    */
   public void setInfo(Properties info) {
@@ -116,14 +116,14 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * ȡ
+   * 获取属性
    */
   public Properties getInfo() {
     return this.info;
   }
 
   /**
-   * 趨sqlǷСд
+   * 设定sql是否大小写敏感
    * @param bcase boolean
    */
   public void setCaseSentence(boolean bcase) {
@@ -131,21 +131,21 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * ȡsqlǷСд
+   * 获取sql是否大小写敏感
    */
   public boolean isCaseSentence() {
     return caseSentence;
   }
 
   /**
-   * ȡsqlǷСд
+   * 获取sql是否大小写敏感
    */
   public boolean isUseSchema() {
     return useSchema;
   }
 
   /**
-   * 趨Ƿʹôֺ
+   * 设定是否使用代字号
    * @return boolean
    */
   public boolean isAddTilde() {
@@ -153,14 +153,14 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * ȡǷʹôֺ
+   * 获取是否使用代字号
    */
   public void setAddTilde(boolean b) {
     isAddTilde = b;
   }
 
   /**
-   * 趨չ
+   * 设定连接扩展属性
    * @param extend String
    */
   public void setExtend(String extend) {
@@ -168,7 +168,7 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * ȡչ
+   * 获取连接扩展属性
    * @return String
    */
   public String getExtend() {
@@ -179,10 +179,10 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
     return new DBSessionFactory(this);
   }
 
-  /*************************¼̳Externalizable************************/
+  /*************************以下继承自Externalizable************************/
   /**
-   * дݵ
-   *@param out 
+   * 写内容到流
+   *@param out 输出流
    */
   public void writeExternal(ObjectOutput out) throws IOException {
     super.writeExternal(out);
@@ -199,8 +199,8 @@ public class DBConfig extends DBInfo implements Cloneable, Externalizable
   }
 
   /**
-   * ж
-   *@param in 
+   * 从流中读内容
+   *@param in 输入流
    */
   public void readExternal(ObjectInput in) throws IOException,
       ClassNotFoundException {
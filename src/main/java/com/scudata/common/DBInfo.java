@@ -12,14 +12,14 @@ public class DBInfo implements Cloneable, Externalizable {
   private static final long serialVersionUID = 10001110L;
 
   /**
-   * 캯
+   * 构造函数
    */
   public DBInfo() {
   }
 
   /**
-   * 캯
-   *@param dbType ԴͣμDBTypes
+   * 构造函数
+   *@param dbType 数据源类型，参见DBTypes
    */
   public DBInfo(int dbType) {
 	this.dbType = dbType;
@@ -40,156 +40,156 @@ public class DBInfo implements Cloneable, Externalizable {
   }
 
   /**
-   * ݿȨ
-   * @param isPublic boolean trueӵжݿȫȨޣfalseֻɼ
+   * 设置数据库访问权限
+   * @param isPublic boolean true：拥有对数据库的全部权限，false：只有语义层可见
    */
   public void setAccessPrivilege(boolean isPublic) {
 	this.isPublic = isPublic;
   }
 
   /**
-   * ݿȨ
-   * @return boolean trueӵжݿȫȨޣfalseֻɼ
+   * 返回数据库访问权限
+   * @return boolean true：拥有对数据库的全部权限，false：只有语义层可见
    */
   public boolean getAccessPrivilege() {
 	return isPublic;
   }
 
   /**
-   * ȡԴͣȡֵDBTypes
+   * 取数据源类型，取值见DBTypes
    */
   public int getDBType() {
 	return this.dbType;
   }
 
   /**
-   * Դ
-   *@param dbType ԴͣμDBTypes
+   * 设数据源类型
+   *@param dbType 数据源类型，参见DBTypes
    */
   public void setDBType(int dbType) {
 	this.dbType = dbType;
   }
 
   /**
-   * Դ
-   *@param name Դ
+   * 设数据源名称
+   *@param name 数据源名称
    */
   public void setName(String name) {
 	this.name = name;
   }
 
   /**
-   * ȡԴ
+   * 取数据源名称
    */
   public String getName() {
 	return name;
   }
 
   /**
-   * ȡԴʹõַ
+   * 取数据源使用的字符集名
    */
   public String getDBCharset() {
 	return this.dbCharset;
   }
 
   /**
-   * Դʹõַ
-   *@param charset1 ַ
+   * 设数据源使用的字符集名
+   *@param charset1 字符集名
    */
   public void setDBCharset(String dbCharset) {
 	this.dbCharset = dbCharset;
   }
 
   /**
-   * ȡͻʹõַ
+   * 取客户端使用的字符集名
    */
   public String getClientCharset() {
 	return this.clientCharset;
   }
 
   /**
-   * ͻʹõַ
-   *@param charset2 ַ
+   * 设客户端使用的字符集名
+   *@param charset2 字符集名
    */
   public void setClientCharset(String clientCharset) {
 	this.clientCharset = clientCharset;
   }
 
   /**
-   * ȡǷҪתݵı
+   * 取是否需要转换检索内容的编码
    */
   public boolean getNeedTranContent() {
 	return this.needTranContent;
   }
 
   /**
-   * ǷҪתݵı
+   * 设是否需要转换检索内容的编码
    */
   public void setNeedTranContent(boolean needTranContent) {
 	this.needTranContent = needTranContent;
   }
 
   /**
-   * ȡǷҪתı
+   * 取是否需要转换检索语句的编码
    */
   public boolean getNeedTranSentence() {
 	return this.needTranSentence;
   }
 
   /**
-   * ǷҪתı
+   * 设是否需要转换检索语句的编码
    */
   public void setNeedTranSentence(boolean needTranSentence) {
 	this.needTranSentence = needTranSentence;
   }
 
   /**
-   * ȡԴڸʽ
+   * 取数据源的日期格式
    */
   public String getDateFormat() {
 	return this.df;
   }
 
   /**
-   * Դڸʽ˺ҪΪƴSQLʹ
-   * @param df ڸʽ
+   * 设数据源的日期格式，此函数主要为拼SQL语句使用
+   * @param df 日期格式
    */
   public void setDateFormat(String df) {
 	this.df = df;
   }
 
   /**
-   * ȡԴʱʽ
+   * 取数据源的时间格式
    */
   public String getTimeFormat() {
 	return this.tf;
   }
 
   /**
-   * Դʱʽ˺ҪΪƴSQLʹ
-   * @param tf ʱʽ
+   * 设数据源的时间格式，此函数主要为拼SQL语句使用
+   * @param tf 时间格式
    */
   public void setTimeFormat(String tf) {
 	this.tf = tf;
   }
 
   /**
-   * ȡԴʱʽ
+   * 取数据源的日期时间格式
    */
   public String getDatetimeFormat() {
 	return this.dtf;
   }
 
   /**
-   * Դʱʽ˺ҪΪƴSQLʹ
-   * @param dtf ʱʽ
+   * 设数据源的日期时间格式，此函数主要为拼SQL语句使用
+   * @param dtf 日期时间格式
    */
   public void setDatetimeFormat(String dtf) {
 	this.dtf = dtf;
   }
 
   /**
-   * Batch Size
+   * 设Batch Size
    *@param size Batch Size
    */
   public void setBatchSize(int size) {
@@ -197,27 +197,27 @@ public class DBInfo implements Cloneable, Externalizable {
   }
 
   /**
-   * ȡBatch Size
+   * 取Batch Size
    */
   public int getBatchSize() {
 	return this.batchSize;
   }
 
   /**
-   * Դӹ
-   * ֱ쳣Ҫ
+   * 产生数据源连接工厂
+   * 本方法直接抛异常，需要子类重载
    */
   public ISessionFactory createSessionFactory() throws Exception {
 	throw new RuntimeException("not implemented");
   }
 
-  /** 汾ţȡֵbyte */
-  private static byte version = (byte)2; // 2009.9.14޸ editValue
+  /** 版本号，取值byte */
+  private static byte version = (byte)2; // 2009.9.14进行修改 添加了editValue
 
-  /*************************¼̳Externalizable************************/
+  /*************************以下继承自Externalizable************************/
   /**
-   * дݵ
-   *@param out 
+   * 写内容到流
+   *@param out 输出流
    */
   public void writeExternal(ObjectOutput out) throws IOException {
 	out.writeByte(version);
@@ -231,14 +231,14 @@ public class DBInfo implements Cloneable, Externalizable {
 	out.writeBoolean(isPublic);
 	out.writeInt(batchSize);
 
-	// 汾2
+	// 版本2
 	out.writeBoolean(needTranContent);
 	out.writeBoolean(needTranSentence);
   }
 
   /**
-   * ж
-   *@param in 
+   * 从流中读内容
+   *@param in 输入流
    */
   public void readExternal(ObjectInput in) throws IOException,
 	  ClassNotFoundException {
@@ -5,23 +5,23 @@ import java.sql.*;
 import java.util.*;
 
 /**
- * Դ
+ * 数据源连接
  */
 public class DBSession {
 	private Object session = null;
 	private DBInfo info = null;
-	//private boolean autoCommit = true; // deleted 2010/11/2 DataListupdateͻ
+	//private boolean autoCommit = true; // deleted 2010/11/2 跟DataList的update冲突
 
 	//added by bdl, 2010.8.30
 	private SQLException error;
 	private boolean registerCause = false;
-	private HashMap<String,Savepoint> map = null;  //ع
+	private HashMap<String,Savepoint> map = null;  //保存回滚点
 	
 
 	/**
-	 * 캯
-	 * @param dbType Դ
-	 * @param session Դ
+	 * 构造函数
+	 * @param dbType 数据源
+	 * @param session 数据源的连接
 	 */
 	public DBSession( Object session, DBInfo info ) {
 		this.session = session;
@@ -32,46 +32,46 @@ public class DBSession {
 
 
 	/**
-	 * Դ
+	 * 设数据源的连接
 	 */
 	public Object getSession() {
 		return this.session;
 	}
 
 	/**
-	 * ȡϵݿݲֿ
+	 * 取关系数据库或数据仓库的连接
 	 */
 	public void setSession( Object session ) {
 		this.session = session;
 	}
 
 	/**
-	 * ȡԴϢ
+	 * 取数据源信息
 	 */
 	public DBInfo getInfo() {
 		return this.info;
 	}
 
 	/**
-	 * ԴϢ
-	 *@param info ԴϢ
+	 * 设数据源信息
+	 *@param info 数据源信息
 	 */
 	public void setInfo( DBInfo info ) {
 		this.info = info;
 	}
 
 	/**
-	 * ر
+	 * 关闭连接
 	 */
 	public void close() {
 		if ( session == null ) return;
 		try {
-			//дΪ˲ʹESSBASEʱҪESSBASEİ
+			//以下写法是为了不使用ESSBASE时，不需要加载ESSBASE的包
 			if ( info.getDBType() == DBTypes.ESSBASE ) {
 				Method m = session.getClass().getMethod( "disconnect", new Class[]{} );
 				m.invoke( session, new Object[]{} );
 			} else {
-				map = null;		//ʱֱӶδreleaseSavepoint
+				map = null;		//暂时直接丢弃，未调用releaseSavepoint
 				Method m = session.getClass().getMethod( "close", new Class[]{} );
 				m.setAccessible(true);
 				m.invoke( session, new Object[]{} );
@@ -82,7 +82,7 @@ public class DBSession {
 	}
 	
 	/**
-	 * ݿ򷵻ǷԶύ򷵻false
+	 * 若是数据库则返回是否自动提交，否则返回false
 	 */
 	public boolean getAutoCommit() {
 		if(session instanceof Connection){
@@ -95,16 +95,16 @@ public class DBSession {
 	}
 	
 	/**
-	 * ȡõǰݿӵԼ
-	 * @param option nullͿմʾȡǰԼ𣬵ַncursһʾӦļ
-	 * @return ԭ𣬷ݿʱnull
+	 * 获取和设置当前数据库连接的事务孤立性级别
+	 * @param option null和空串表示取当前孤立性级别，单字符ncurs中一个表示相应的级别
+	 * @return 原级别，非数据库时返回null
 	 * @throws SQLException
 	 */
 	public String isolate(String option) throws SQLException {
 		if( !(session instanceof Connection) ) return null;
 		Connection conn = (Connection)session;
-		//edited by bd, 2017.7.4, ݿƼݿJDBCƣûgetTransactionIsolation
-		//޸ģĵtryһ£siĬֵΪn
+		//edited by bd, 2017.7.4, 麦捷科技的数据库JDBC不完善，并没有getTransactionIsolation
+		//修改：把下面的调用try一下，si默认值为“n”
 		//String si = null;
 		String si = "n";
 		try {
@@ -121,8 +121,8 @@ public class DBSession {
 			e.printStackTrace();
 		}
 		if(option==null) return si;
-		//edited by bd, 2017.7.4, ݿƼݿJDBCƣûgetTransactionIsolation
-		//ƵģsetTransactionIsolationҲtryһ
+		//edited by bd, 2017.7.4, 麦捷科技的数据库JDBC不完善，并没有getTransactionIsolation
+		//类似的：把下面的setTransactionIsolation调用也try一下
 		try {
 			if(option.indexOf('n')>=0) conn.setTransactionIsolation(Connection.TRANSACTION_NONE);
 			else if(option.indexOf('c')>=0) conn.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
@@ -137,9 +137,9 @@ public class DBSession {
 	}
 	
 	/**
-	 * ûع
-	 * @param nameعƣΪ
-	 * @return ݿⷵfalseݿⷵtrue
+	 * 设置回滚点
+	 * @param name，回滚点名称，不允许为空
+	 * @return 非数据库返回false，数据库返回true
 	 */
 	public boolean savepoint(String name) throws SQLException {
 		if( !(session instanceof Connection) ) return false;
@@ -150,9 +150,9 @@ public class DBSession {
 		return true;
 	}
 	
-	/** عָƵĻع
-	 * @param nameعƣΪnullʱʾع޸
-	 * @return ݿָƵĻعʱfalseݿⷵtrue
+	/** 回滚到指定名称的回滚点
+	 * @param name，回滚点名称，为null时表示回滚所有修改
+	 * @return 非数据库或无指定名称的回滚点时返回false，数据库返回true
 	 */
 	public boolean rollback(String name) throws SQLException {
 		if( !(session instanceof Connection) ) return false;
@@ -169,12 +169,12 @@ public class DBSession {
 	}
 
 	/**
-	 * Ƿر
+	 * 检查是否关闭
 	 */
 	public boolean isClosed() {
 		if ( session == null ) return true;
 		try {
-			//дΪ˲ʹESSBASEʱҪESSBASEİ
+			//以下写法是为了不使用ESSBASE时，不需要加载ESSBASE的包
 			if ( info.getDBType() == DBTypes.ESSBASE ) {
 				Method m = session.getClass().getDeclaredMethod( "isConnected", new Class[]{} );
 				Object o = m.invoke( session, new Object[]{} );
@@ -187,7 +187,7 @@ public class DBSession {
 			}
 		}
 		catch (java.lang.NoSuchMethodException noMethodE ) {
-		  //added by bdl, 2009.12.3ݿûСisClosedʱΪԴδر
+		  //added by bdl, 2009.12.3，当数据库驱动中没有“isClosed”方法时，认为数据源未关闭
 		  return false;
 		}
 		catch( Exception e ) {
@@ -209,7 +209,7 @@ public class DBSession {
 	}
 
 		/**
-		 * 趨Ϣ
+		 * 设定错误信息
 		 * @return SQLException
 		 */
 		public void setError(SQLException error) {
@@ -217,7 +217,7 @@ public class DBSession {
 		}
 
 		/**
-		 * ȡϢ
+		 * 获取错误信息
 		 * @return SQLException
 		 */
 		public SQLException error() {
@@ -225,7 +225,7 @@ public class DBSession {
 		}
 
 		/**
-		 * Ƿ¼쳣
+		 * 是否记录错误异常
 		 * @param registerCause boolean
 		 */
 		public void setErrorMode(boolean registerCause) {
@@ -233,7 +233,7 @@ public class DBSession {
 		}
 
 		/**
-		 * ȡǷ¼쳣
+		 * 获取是否记录错误异常
 		 * @return boolean
 		 */
 		public boolean getErrorMode() {
@@ -15,13 +15,13 @@ public class DBSessionFactory implements ISessionFactory {
 		this.url = cfg.getUrl();
 		if (cfg.getInfo() != null)
 				  this.info.putAll(cfg.getInfo());
-				//editd by bdl, 2013.11.21, Propertiesвܼvalue
+				//editd by bdl, 2013.11.21, Properties中不能加入空value
 				if (cfg.getUser() != null)
 				  this.info.put("user", cfg.getUser());
 				if (cfg.getPassword() != null)
 				  this.info.put("password", cfg.getPassword());
 
-		// getTables getColumnsʾremarks
+		// getTables getColumns等显示remarks
 		if (cfg.getDBType() == DBTypes.ORACLE)
 			this.info.put("remarksReporting", "true"); // oracle
 
@@ -37,7 +37,7 @@ public class DBSessionFactory implements ISessionFactory {
 	}
 
 	public DBSession getSession() throws Exception {
-		// edited by bdl, 2008.11.18ConnectionȫΪԶύ
+		// edited by bdl, 2008.11.18，Connection全部设为不自动提交。
 		//Connection con = DriverManager.getConnection(url, info);
 		Driver d = DriverManager.getDriver(url);
 		Connection con = d.connect(url, info);
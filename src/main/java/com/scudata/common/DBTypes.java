@@ -1,11 +1,11 @@
 package com.scudata.common;
 
 /**
- * ԴصĻ
+ * 数据源类型相关的基本函数集
  */
 public class DBTypes {
 	/**
-	 * δ֪Դ
+	 * 未知数据源类型
 	 */
 	public static final int UNKNOWN = 0;
 
@@ -54,7 +54,7 @@ public class DBTypes {
 	public static final int ESSBASE = 101;
 
 	/**
-	 * гпֵ֧Դ
+	 * 列出所有可支持的数据源类型
 	 */
 	public static int[] listSupportedDBTypes() {
 		return new int[] { ORACLE, SQLSVR, SYBASE, SQLANY, INFMIX, FOXPRO,
@@ -64,7 +64,7 @@ public class DBTypes {
 	}
 
 	/**
-	 * гпֵ֧ĹϵԴ
+	 * 列出所有可支持的关系型数据源类型名称
 	 */
 	public static String[] listSupportedRDBNames() {
 		return new String[] { "ORACLE", "SQLSVR", "SYBASE", "SQLANY", "INFMIX",
@@ -75,7 +75,7 @@ public class DBTypes {
 	}
 
 	/**
-	 * гпֵ֧ݲֿ
+	 * 列出所有可支持的数据仓库类型名称
 	 */
 	public static String[] listSupportedMDBNames() {
 		return new String[] { "ESSBASE" };
@@ -83,7 +83,7 @@ public class DBTypes {
 	}
 
 	/**
-	 * гпֵ֧Դ
+	 * 列出所有可支持的数据源类型名称
 	 */
 	public static String[] listSupportedDBNames() {
 		return new String[] { "ORACLE", "SQLSVR", "SYBASE", "SQLANY", "INFMIX",
@@ -94,11 +94,11 @@ public class DBTypes {
 	}
 
 	/**
-	 * ԴȡԴ
+	 * 根据数据源类型名称取数据源类型
 	 * 
 	 * @param dbTypeName
-	 *            Դ
-	 * @return Դ
+	 *            数据源类型名称
+	 * @return 数据源类型
 	 */
 	public static int getDBType(String dbTypeName) {
 		if (dbTypeName == null) {
@@ -116,11 +116,11 @@ public class DBTypes {
 	}
 
 	/**
-	 * ԴȡԴ
+	 * 根据数据源类型取数据源类型名称
 	 * 
 	 * @param dbType
-	 *            Դ
-	 * @return Դ
+	 *            数据源类型
+	 * @return 数据源类型名称
 	 */
 	public static String getDBTypeName(int dbType) {
 		int[] dbTypes = listSupportedDBTypes();
@@ -134,11 +134,11 @@ public class DBTypes {
 	}
 
 	/**
-	 * ݿͲڲַʹõ
+	 * 根据数据库类型查找其内部字符串使用的引号
 	 * 
 	 * @param dbType
-	 *            ݿ
-	 * @return ַ(˫)
+	 *            数据库类型
+	 * @return 引号字符(单或双)
 	 */
 	public static char getQuotation(int dbType) {
 		return (dbType == INFMIX || dbType == FOXPRO || dbType == ACCESS || dbType == FOXBAS) ? '\"'
@@ -146,12 +146,12 @@ public class DBTypes {
 	}
 
 	/**
-	 * ݿΪַ
+	 * 根据数据库类型为字符串添加引号
 	 * 
 	 * @param dbType
-	 *            ݿ
-	 * @param ҪŵĴ
-	 * @return ŵĴ
+	 *            数据库类型
+	 * @param 需要添加引号的串
+	 * @return 添加引号的串
 	 */
 	public static String addQuotation(int dbType, String value) {
 		if (value == null || value.length() == 0) {
@@ -177,7 +177,7 @@ public class DBTypes {
 	}
 
 	/**
-	 * 󣨱ֶεȣƺַʱ޶
+	 * 当对象（表、字段等）名称含有特殊字符时的左限定符
 	 */
 	public static String getLeftTilde(int dbType) {
 		if (dbType == SQLSVR || dbType == ACCESS)
@@ -190,7 +190,7 @@ public class DBTypes {
 	}
 
 	/**
-	 * 󣨱ֶεȣƺַʱ޶
+	 * 当对象（表、字段等）名称含有特殊字符时的右限定符
 	 */
 	public static String getRightTilde(int dbType) {
 		if (dbType == SQLSVR || dbType == ACCESS)
@@ -202,15 +202,15 @@ public class DBTypes {
 		return "\"";
 	}
 
-	// ºڹʻ»᲻ȷ
+	// 以下函数在国际化的情况下会不正确
 	/**
-	 * ݿͽַתSQLʹõַ͵Ĵ
+	 * 根据数据库类型将字符串转换SQL中使用的字符类型的串
 	 * 
 	 * @param dbType
-	 *            ݿ
+	 *            数据库类型
 	 * @param value
-	 *            ҪתĴ
-	 * @return תĴ
+	 *            需要转换的串
+	 * @return 转换后的串
 	 */
 
 	/*
@@ -218,13 +218,13 @@ public class DBTypes {
 	 * addQuotation( dbType, value ); }
 	 */
 	/**
-	 * ݿͽַ(ҪʽΪyyyy-MM-dd)תSQLʹõ͵Ĵ
+	 * 根据数据库类型将字符串(要求格式为yyyy-MM-dd)转换SQL中使用的日期类型的串
 	 * 
 	 * @param dbType
-	 *            ݿ
+	 *            数据库类型
 	 * @param value
-	 *            ҪתĴ
-	 * @return תĴ
+	 *            需要转换的串
+	 * @return 转换后的串
 	 */
 	/*
 	 * public static String getDateConst( int dbType, String value ) { if (
@@ -234,13 +234,13 @@ public class DBTypes {
 	 */
 
 	/**
-	 * ݿͽַ(ҪʽΪHH:mm:ss)תSQLʹõʱ͵Ĵ
+	 * 根据数据库类型将字符串(要求格式为HH:mm:ss)转换SQL中使用的时间类型的串
 	 * 
 	 * @param dbType
-	 *            ݿ
+	 *            数据库类型
 	 * @param value
-	 *            ҪתĴ
-	 * @return תĴ
+	 *            需要转换的串
+	 * @return 转换后的串
 	 */
 	/*
 	 * public static String getTimeConst( int dbType, String value ) { if (
@@ -251,13 +251,13 @@ public class DBTypes {
 	 */
 
 	/**
-	 * ݿͽַ(ҪʽΪ"yyyy-MM-dd HH:mm:ss")תSQLʹ ʱ͵Ĵ
+	 * 根据数据库类型将字符串(要求格式为"yyyy-MM-dd HH:mm:ss")转换SQL中使用 的日期时间类型的串
 	 * 
 	 * @param dbType
-	 *            ݿ
+	 *            数据库类型
 	 * @param value
-	 *            ҪתĴ
-	 * @return תĴ
+	 *            需要转换的串
+	 * @return 转换后的串
 	 */
 	/*
 	 * public static String getTimestampConst( int dbType, String value ) { if (
@@ -266,15 +266,15 @@ public class DBTypes {
 	 * "','yyyy-mm-dd hh24:mi:ss')"; default: return "'" + value + "'"; } }
 	 */
 	/**
-	 * ȡַָݿ¶ӦSQLʽ
+	 * 获取字符串在指定数据库下对应的SQL表达式
 	 * 
 	 * @param dbType
-	 *            ݿ
+	 *            数据库类型
 	 * @param value
-	 *            ֵ
+	 *            数据值对象
 	 * @param datatype
-	 *            
-	 * @return SQLıʽ
+	 *            数据类型
+	 * @return 用于SQL的表达式
 	 */
 	/*
 	 * public static String getDBConst( int dbType, Object value, int datatype )
@@ -584,7 +584,7 @@ public class DES {
 	public static void main(String[] args) throws Exception
 	{
 		DES des = new DES("1234567890");
-		String s = "abcdefghйž";
+		String s = "abcdefgh中国人民解放军";
 		//for( int i = 0; i < 10; i++ )
 		//	s += s;
 		byte[] bs = s.getBytes("utf-8");
@@ -603,7 +603,7 @@ public class DES {
 
 		//System.out.println(new Date());
 		//for (int i=0; i<100000; i++) {
-		//	bs = des.encrypt(bs, 400);//ȣ8ı
+		//	bs = des.encrypt(bs, 400);//包长度，8的倍数
 		//	bs = des.decrypt(bs, 400);
 		//}
 		//System.out.println(new Date());
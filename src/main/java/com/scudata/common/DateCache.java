@@ -4,11 +4,11 @@ import java.sql.Date;
 import java.util.Calendar;
 
 final public class DateCache {
-	// 1992֮ǰеڲܱ86400000
-	// 2000/1/12030/12/31֮
+	// 1992年之前有的日期不能被86400000整除
+	// 缓存从2000/1/1到2030/12/31之间的日期
 	private static final int DATECOUNT = 11323;
 	private static final Date []dates = new Date[DATECOUNT];
-	static final long BASEDATE; // 2000/1/1Ӧֵ
+	static final long BASEDATE; // 2000/1/1对应的日期值
 	static {
 		Calendar calendar = Calendar.getInstance();
 		calendar.set(2000, java.util.Calendar.JANUARY, 1, 0, 0, 0);
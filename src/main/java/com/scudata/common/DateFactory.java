@@ -6,7 +6,7 @@ import java.util.Calendar;
 import java.util.Date;
 
 /**
- * ̰߳ȫ࣬ÿθʽͷǰõǰĸʽϴεûӰ´εĸʽͷ
+ * 线程安全类，但每次格式化和分析前需设置当前的格式串，否则上次的设置会影响下次的格式化和分析
  */
 public class DateFactory {
 	private static ThreadLocal<DateFactory> local = new ThreadLocal<DateFactory>() {
@@ -87,9 +87,9 @@ public class DateFactory {
 	}
 
 	/**
-	 * ȡָڵ
-	 * @param date ָ
-	 * @return 
+	 * 取指定日期的月首日期
+	 * @param date 指定的日期
+	 * @return 月首日期
 	 */
 	public Date monthBegin(Date date) {
 		Calendar gc = getCalendar();
@@ -103,9 +103,9 @@ public class DateFactory {
 	}
 
 	/**
-	 * ȡָڵĩ
-	 * @param date ָ
-	 * @return ĩ
+	 * 取指定日期的月末日期
+	 * @param date 指定的日期
+	 * @return 月末日期
 	 */
 	public Date monthEnd(Date date) {
 		Calendar gc = getCalendar();
@@ -120,9 +120,9 @@ public class DateFactory {
 	}
 
 	/**
-	 * ȡָڵļ
-	 * @param date ָ
-	 * @return 
+	 * 取指定日期的季度首日
+	 * @param date 指定的日期
+	 * @return 季度首日
 	 */
 	public Date quaterBegin(Date date) {
 		Calendar gc = getCalendar();
@@ -138,9 +138,9 @@ public class DateFactory {
 	}
 
 	/**
-	 * ȡָڵļĩ
-	 * @param date ָ
-	 * @return ĩ
+	 * 取指定日期的季度末日期
+	 * @param date 指定的日期
+	 * @return 季度末日期
 	 */
 	public Date quaterEnd(Date date) {
 		Calendar gc = getCalendar();
@@ -156,7 +156,7 @@ public class DateFactory {
 		return new java.sql.Date(gc.getTimeInMillis());
 	}
 	
-	// ȡָĵһ
+	// 取指定日期所在年的第一天
 	public Date yearBegin(Date date) {
 		Calendar gc = getCalendar();
 		gc.setTime(date);
@@ -165,7 +165,7 @@ public class DateFactory {
 		return new java.sql.Date(gc.getTimeInMillis());
 	}
 	
-	// ȡָһ
+	// 取指定日期所在年的最后一天
 	public Date yearEnd(Date date) {
 		Calendar gc = getCalendar();
 		gc.setTime(date);
@@ -175,9 +175,9 @@ public class DateFactory {
 	}
 
 	/**
-	 * ȡָڵͬһգͬһգ򷵻һ
-	 * @param date ָ
-	 * @return ͬһ
+	 * 取指定日期的上月同一日，若无同一日，则返回上月最后一天
+	 * @param date 指定的日期
+	 * @return 上月同一日
 	 */
 	public Date lastMonth(Date date) {
 		Calendar gc = getCalendar();
@@ -191,9 +191,9 @@ public class DateFactory {
 	}
 
 	/**
-	 * ȡָڵһͬһ
-	 * @param date ָ
-	 * @return һͬһ
+	 * 取指定日期的上一年同一日期
+	 * @param date 指定的日期
+	 * @return 上一年同一日期
 	 */
 	public Date lastYear(Date date) {
 		Calendar gc = getCalendar();
@@ -207,9 +207,9 @@ public class DateFactory {
 	}
 
 	/**
-	 * ȡָڵ
-	 * @param date ָ
-	 * @return 
+	 * 取指定日期的昨天
+	 * @param date 指定的日期
+	 * @return 昨天
 	 */
 	public Date lastDay(Date date) {
 		Calendar gc = getCalendar();
@@ -284,10 +284,10 @@ public class DateFactory {
 	}
 
 	/**
-	 * (10λ)
-	 * @param data Ҫֽڷ
-	 * @param beginIndex ʼλ
-	 * @return ЧDate
+	 * 解析日期(10位)
+	 * @param data 需要解析的字节符
+	 * @param beginIndex 开始解析的位置
+	 * @return 日期有效的Date对象
 	 */
 	public static Date parseDate(String data, int beginIndex) throws ParseException {
 		if (data == null) {
@@ -297,9 +297,9 @@ public class DateFactory {
 	}
 
 	/**
-	 * (10λ)
-	 * @param data Ҫֽڷ
-	 * @return ЧDate
+	 * 解析日期(10位)
+	 * @param data 需要解析的字节符
+	 * @return 日期有效的Date对象
 	 */
 	public static Date parseDate(String data) throws ParseException {
 		if (data == null) {
@@ -309,10 +309,10 @@ public class DateFactory {
 	}
 
 	/**
-	 * ʱ(8λ)
-	 * @param data Ҫֽ
-	 * @param beginIndex ʼλ
-	 * @return ʱЧTime
+	 * 解析时间(8位)
+	 * @param data 需要解析的字节数组
+	 * @param beginIndex 开始解析的位置
+	 * @return 时间有效的Time对象
 	 */
 	public static Date parseTime(String data, int beginIndex) throws ParseException {
 		if (data == null) {
@@ -322,9 +322,9 @@ public class DateFactory {
 	}
 
 	/**
-	 * ʱ(8λ)
-	 * @param data Ҫֽ
-	 * @return ʱЧTime
+	 * 解析时间(8位)
+	 * @param data 需要解析的字节数组
+	 * @return 时间有效的Time对象
 	 */
 	public static Date parseTime(String data) throws ParseException {
 		if (data == null) {
@@ -334,10 +334,10 @@ public class DateFactory {
 	}
 
 	/**
-	 * ʱ(19λ)
-	 * @param data Ҫֽ
-	 * @param beginIndex ʼλ
-	 * @return ʱЧDate
+	 * 解析日期时间(19位)
+	 * @param data 需要解析的字节数组
+	 * @param beginIndex 开始解析的位置
+	 * @return 日期与时间均有效的Date对象
 	 */
 	public static Date parseDateTime(String data, int beginIndex) throws ParseException {
 		if (data == null) {
@@ -347,9 +347,9 @@ public class DateFactory {
 	}
 
 	/**
-	 * ʱ(19λ)
-	 * @param data Ҫֽ
-	 * @return ʱЧDate
+	 * 解析日期时间(19位)
+	 * @param data 需要解析的字节数组
+	 * @return 日期与时间均有效的Date对象
 	 */
 	public static Date parseDateTime(String data) throws ParseException {
 		if (data == null) {
@@ -359,7 +359,7 @@ public class DateFactory {
 	}
 	
 	/**
-	 * ڱɻ1970
+	 * 把日期变成基于1970年的天数
 	 * days@o(date) date(1970+d\384,d\32%12+1,d%32)
 	 * @param date
 	 * @return int
@@ -373,7 +373,7 @@ public class DateFactory {
 	}
 	
 	/**
-	 * ѻ1970
+	 * 把基于1970年的天数变成日期
 	 * @param days
 	 * @return Date
 	 */
@@ -402,7 +402,7 @@ public class DateFactory {
 	}
 	
 	/**
-	 * ѻ1970
+	 * 把基于1970年的天数变成年
 	 * @param days
 	 * @return int
 	 */
@@ -416,7 +416,7 @@ public class DateFactory {
 	}
 	
 	/**
-	 * ѻ1970
+	 * 把基于1970年的天数变成月
 	 * @param days
 	 * @return int
 	 */
@@ -430,7 +430,7 @@ public class DateFactory {
 	}
 	
 	/**
-	 * ѻ1970
+	 * 把基于1970年的天数变成年月
 	 * @param days
 	 * @return int
 	 */
@@ -448,7 +448,7 @@ public class DateFactory {
 	}
 	
 	/**
-	 * ѻ1970
+	 * 把基于1970年的天数变成日
 	 * @param days
 	 * @return int
 	 */
@@ -18,48 +18,48 @@ public class DateFormatFactory {
 	}
 
 	/**
-	 * ȡʱʽ
-	 * @return String ʱʽ趨
+	 * 获取时间格式
+	 * @return String 时间格式设定
 	 */
 	public static String getDefaultTimeFormat() {
 		return timeFormat;
 	}
 
 	/**
-	 * ʱʽ
-	 * @param format String ʱʽ趨
+	 * 设置时间格式
+	 * @param format String 时间格式设定
 	 */
 	public static void setDefaultTimeFormat(String format) {
 		timeFormat = format;
 	}
 
 	/**
-	 * ȡڸʽ
-	 * @return String ڸʽ趨
+	 * 获取日期格式
+	 * @return String 日期格式设定
 	 */
 	public static String getDefaultDateFormat() {
 		return dateFormat;
 	}
 
 	/**
-	 * ڸʽ
-	 * @param format String ڸʽ趨
+	 * 设置日期格式
+	 * @param format String 日期格式设定
 	 */
 	public static void setDefaultDateFormat(String format) {
 		dateFormat = format;
 	}
 
 	/**
-	 * ȡʱʽ
-	 * @return String ʱʽ趨
+	 * 获取日期时间格式
+	 * @return String 日期时间格式设定
 	 */
 	public static String getDefaultDateTimeFormat() {
 		return dateTimeFormat;
 	}
 
 	/**
-	 * ʱʽ
-	 * @param format String ʱʽ趨
+	 * 设置日期时间格式
+	 * @param format String 日期时间格式设定
 	 */
 	public static void setDefaultDateTimeFormat(String format) {
 		dateTimeFormat = format;
@@ -69,7 +69,7 @@ public class DateFormatFactory {
 	private HashMap<String, DateFormatX> xmap = new HashMap<String, DateFormatX>();
 
 	/**
-	 * ȡָʽĸʽ
+	 * 取指定格式串的格式对象
 	 */
 	public DateFormat getFormat(String fmt) {
 		DateFormat df = map.get(fmt);
@@ -99,28 +99,28 @@ public class DateFormatFactory {
 	}
 	
 	/**
-	 * ȡϵͳ趨ڸʽӦĸʽ
+	 * 取系统设定的日期格式串对应的格式对象
 	 */
 	public DateFormat getDateFormat() {
 		return getFormat(dateFormat);
 	}
 
 	/**
-	 * ȡϵͳ趨ʱʽӦĸʽ
+	 * 取系统设定的时间格式串对应的格式对象
 	 */
 	public DateFormat getTimeFormat() {
 		return getFormat(timeFormat);
 	}
 
 	/**
-	 * ȡϵͳ趨ʱʽӦĸʽ
+	 * 取系统设定的日期时间格式串对应的格式对象
 	 */
 	public DateFormat getDateTimeFormat() {
 		return getFormat(dateTimeFormat);
 	}
 
 	/**
-	 * ȡָʽĸʽ
+	 * 取指定格式串的格式对象
 	 */
 	public DateFormatX getFormatX(String fmt) {
 		DateFormatX df = xmap.get(fmt);
@@ -134,21 +134,21 @@ public class DateFormatFactory {
 	}
 
 	/**
-	 * ȡϵͳ趨ڸʽӦĸʽ
+	 * 取系统设定的日期格式串对应的格式对象
 	 */
 	public DateFormatX getDateFormatX() {
 		return getFormatX(dateFormat);
 	}
 
 	/**
-	 * ȡϵͳ趨ʱʽӦĸʽ
+	 * 取系统设定的时间格式串对应的格式对象
 	 */
 	public DateFormatX getTimeFormatX() {
 		return getFormatX(timeFormat);
 	}
 
 	/**
-	 * ȡϵͳ趨ʱʽӦĸʽ
+	 * 取系统设定的日期时间格式串对应的格式对象
 	 */
 	public DateFormatX getDateTimeFormatX() {
 		return getFormatX(dateTimeFormat);
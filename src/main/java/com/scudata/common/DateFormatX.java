@@ -15,7 +15,7 @@ public class DateFormatX extends SimpleDateFormat {
     //private final static int TAG_QUOTE_ASCII_CHAR	= 100;
     private final static int TAG_QUOTE_CHARS = 101;
     
-    // ֵ֧ģʽûദ
+    // 支持的模式，如果包含其它的则调用基类处理
     private static final String  patternChars = "yMdHmsS";
     
     // Map index into pattern character string to Calendar field number
@@ -23,7 +23,7 @@ public class DateFormatX extends SimpleDateFormat {
         Calendar.YEAR, Calendar.MONTH, Calendar.DATE,
         Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND};
 
-    // ûദ
+    // 如果空则调用基类处理
     private char[] compiledPattern;
 
 
@@ -109,7 +109,7 @@ public class DateFormatX extends SimpleDateFormat {
 		    }
 		}
 
-		// 20181028ʽŻ
+		// 不对20181028格式的日期做优化
 		if (!hasQuote) {
 			return null;
 		}
@@ -167,7 +167,7 @@ public class DateFormatX extends SimpleDateFormat {
 				//boolean obeyCount = false;
 				start = subParse(text, start, tag);
 				if (start < 0) {
-					// ɸദ
+					// 由父类处理
 		    		ParsePosition pos = new ParsePosition(0);
 		    		Date date = parse(text, pos);
 		    		if (date == null) {
@@ -185,7 +185,7 @@ public class DateFormatX extends SimpleDateFormat {
 		    }
 	    }
 
-        // ںǷжķǿհַ
+        // 检查日期后面是否还有多余的非空白字符
         for (;start < textLength; ++start) {
         	if (!Character.isWhitespace(text.charAt(start))) {
         		return null;
@@ -216,7 +216,7 @@ public class DateFormatX extends SimpleDateFormat {
         int end = start;
     	int len = text.length();
     	
-    	// ʱִ֧пո
+    	// 暂时不支持带有空格
     	for (; end < len; ++end) {
     		char c = text.charAt(end);
     		if (c >= '0' && c <= '9') {
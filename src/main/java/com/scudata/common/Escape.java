@@ -3,17 +3,17 @@ package com.scudata.common;
 public final class Escape {
 
 /**
-*	൱ڵ add(str, '\\')
+*	相当于调用 add(str, '\\')
 */
 	public static String add( String str ) {
 		return add( str, '\\' );
 	}
 
 /**
-*   Ϊַ(\t,\r,\n,\',\"escapeChar)ָת²´
-*   @param str Ҫתַ
-*   @param escapeChar ת
-*   @return ´
+*   为给定的字符(\t,\r,\n,\',\"及定义的escapeChar)串增加指定的转义符，并返回新产生的新串
+*   @param str 需要增加转义符的字符串
+*   @param escapeChar 转义符
+*   @return 新串
 */
 	public static String add( String str, char escapeChar ) {
 		if ( str == null )
@@ -57,23 +57,23 @@ public final class Escape {
 
 
 /**
-*   Ϊַָת²´
+*   为给定的字符串增加指定的转义符，并返回新产生的新串
 *
-*   @param str Ҫתַ
-*	@param escapedChars Ҫתַ
-*   @return ´
+*   @param str 需要增加转义符的字符串
+*	@param escapedChars 需要被转义的字符
+*   @return 新串
 */
 	public static String add( String str, String escapedChars ) {
 		return add( str, escapedChars, '\\');
 	}
 
 /**
-*   Ϊַָת²´
+*   为给定的字符串增加指定的转义符，并返回新产生的新串
 *
-*   @param str Ҫתַ
-*	@param escapedChars Ҫתַ
-*   @param escapeChar ת
-*   @return ´
+*   @param str 需要增加转义符的字符串
+*	@param escapedChars 需要被转义的字符
+*   @param escapeChar 转义符
+*   @return 新串
 */
 	public static String add( String str, String escapedChars, char escapeChar ) {
 		if ( str == null )
@@ -165,18 +165,18 @@ public final class Escape {
 
 
 /**
-*	൱ڵ remove( str, '\\')
+*	相当于调用 remove( str, '\\')
 */
 	public static String remove( String str ) {
 		return remove( str, '\\' );
 	}
 
 /**
-*   ַָȥָת²´
+*   将指定的字符串移去指定转义符，并返回新产生的新串
 *
-*   @param str Ҫȥתַ
-*   @param escapeChar תַ
-*   @return ԭȥת´
+*   @param str 需要移去转义符的字符串
+*   @param escapeChar 转义字符
+*   @return 原串移去转义符后的新串
 */
 	public static String remove( String str, char escapeChar ) {
 		if ( str == null )
@@ -214,11 +214,11 @@ public final class Escape {
 	}
 
 /**
-*	ʹþתַ任ʹתַ
-*	@param str Ҫ任תĴ
-*	@param oldEscapeChar ת
-*	@param newEscapeChar ת
-*	@return 任´
+*	将使用旧转义符的字符串变换使用新转义符的字符串
+*	@param str 需要变换转义符的串
+*	@param oldEscapeChar 旧转义符
+*	@param newEscapeChar 新转义符
+*	@return 变换后的新串
 */
 	public static String change( String str, char oldEscapeChar, char newEscapeChar ) {
 		if ( str == null )
@@ -239,33 +239,33 @@ public final class Escape {
 	}
 
 /**
-*	൱ڵ addEscAndQuote(str, true, '\\')
+*	相当于调用 addEscAndQuote(str, true, '\\')
 */
 	public static String addEscAndQuote( String str ) {
 		return addEscAndQuote( str, true, '\\' );
 	}
 
 /**
-*	൱ڵ addEscAndQuote(str, ifDblQuote, '\\')
+*	相当于调用 addEscAndQuote(str, ifDblQuote, '\\')
 */
 	public static String addEscAndQuote( String str, boolean ifDblQuote) {
 		return addEscAndQuote( str, ifDblQuote, '\\' );
 	}
 
 /**
-*	൱ڵ addEscapeAndQuote(str, true, '\\')
+*	相当于调用 addEscapeAndQuote(str, true, '\\')
 */
 	public static String addEscAndQuote( String str, char escapeChar) {
 		return addEscAndQuote( str, true, escapeChar );
 	}
 
 /**
-*   Ϊַָתǰţ²´
+*   为给定的字符串增加指定的转义符，且前后补上引号，并返回新产生的新串
 *
-*   @param str Ҫתַ
-*	@param ifDblQuote Ϊtrueʱ˫ţϵ
-*   @param escapeChar ת
-*   @return ´
+*   @param str 需要增加转义符的字符串
+*	@param ifDblQuote 为true时加上双引号，否则加上单引号
+*   @param escapeChar 转义符
+*   @return 新串
 */
 	public static String addEscAndQuote( String str, boolean ifDblQuote, char escapeChar ) {
 		if ( str == null )
@@ -312,7 +312,7 @@ public final class Escape {
 	}
 	
 	/**
-	 * ʹexcel׼˫
+	 * 使用excel标准添加双引号
 	 * @param str
 	 * @return
 	 */
@@ -340,18 +340,18 @@ public final class Escape {
 	}
 
 	/**
-	*	൱ڵ removeEscAndQuote( str, '\\')
+	*	相当于调用 removeEscAndQuote( str, '\\')
 	*/
 	public static String removeEscAndQuote( String str ) {
 		return removeEscAndQuote( str, '\\' );
 	}
 
 	/**
-	*   ַָȥߵżָת²´
+	*   将指定的字符串移去最外边的引号及指定转义符，并返回新产生的新串
 	*
-	*   @param str Ҫȥתַ
-	*   @param escapeChar תַ
-	*   @return ԭȥת´
+	*   @param str 需要移去转义符的字符串
+	*   @param escapeChar 转义字符
+	*   @return 原串移去转义符后的新串
 	*/
 	public static String removeEscAndQuote( String str, char escapeChar ) {
 		if ( str == null )
@@ -397,7 +397,7 @@ public final class Escape {
 	}
 
 	public static void main(String[] args) {
-		String s = "a=\"(1+1)\";b=\"salary+1\"";
+		String s = "a=\"(1+1)\";b=\"（salary）+1\"";
 		s = add(s, "()[]{}");
 		System.out.println(s);
 		s = remove(s);
@@ -38,10 +38,10 @@ public class FileUtils {
 	private final static byte[] RTFID = {
 			(byte)0x7B, (byte)0x5C, (byte)0x72, (byte)0x74, (byte)0x66};
 	
-	/* ļݼͼƬʽ֧gifjpgpngʶʱnull*/
+	/* 根据文件内容检测图片格式，支持gif、jpg、png，不认识时返回null　*/
 	public static String getPicFormat(byte[] data) {
         if (data[0] == 'G' && data[1] == 'I' && data[2] == 'F') {
-        	//GIFͼƬ
+        	//GIF图片
         	return FileUtils.FORMAT_GIF;
         }
         else if (check(data, JPGID)) {
@@ -121,10 +121,10 @@ public class FileUtils {
         return null;
     }
 	
-	/* ļݼļʽ֧gifjpgpngpdfxlsxlsxdocdocxtxtʶʱnull */
+	/* 根据文件内容检测文件格式，支持gif、jpg、png、pdf、xls、xlsx、doc、docx、txt，不认识时返回null */
 	public static String getFileFormat(byte[] data) {
         if (data[0] == 'G' && data[1] == 'I' && data[2] == 'F') {
-        	//GIFͼƬ
+        	//GIF图片
         	return FileUtils.FORMAT_GIF;
         }
         else if (check(data, JPGID)) {
@@ -45,7 +45,7 @@ public class GifEncoder extends GifImageEncoder
 {
 
 	private boolean interlace = false;
-	private int transparentRGB = -13347208;  //Ӧnew Color(0x12345678) --ARGB
+	private int transparentRGB = -13347208;  //对应于new Color(0x12345678) --ARGB类型
 
 	/// Constructor from Image.
 	// @param img The image to encode.
@@ -56,7 +56,7 @@ public class GifEncoder extends GifImageEncoder
 		this.transparentRGB = transparentRGB;
 	}
 
-	//ARGBģʹ0x12345678͸ɫ
+	//在ARGB模型下使用0x12345678做透明色
 	public GifEncoder( Image img, OutputStream out ) throws IOException {
 		this(img, out, -13347208);
 	}
@@ -648,7 +648,7 @@ class GifEncoderHashitem
 class IntHashtable implements Serializable,Cloneable
 {
 	/*
-	 * keyö
+	 * 用于key的枚举
 	 */
 	public static class Enumerator {
 		IntHashtable ih;
@@ -700,7 +700,7 @@ class IntHashtable implements Serializable,Cloneable
 	}
 
 	/*
-	 * valueö
+	 * 用于value的枚举
 	 */
 	class ValueEnumerator implements Enumeration {
 		int index = 0;
@@ -741,19 +741,19 @@ class IntHashtable implements Serializable,Cloneable
 		}
 	}
 
-	//hash
+	//hash表数据
 	private int[] keys;
 	private Object[] objs;
 
-	//hash
+	//hash表中入口总数
 	private int count;
 
 	/*
-	 * ָʼװӹһյhashtable
-	 * @param initialCapacity ʼʼͰ(bucket)
-	 * @param loadFactor 0.01.0֮һڶ嵱˹ʱhash
-	 * hashһhash(ڱϣ)
-	 * @exception IllegalArgumentException ʼС0
+	 * 用指定初始容量和装填因子构造一个空的hashtable
+	 * @param initialCapacity 初始容量，即初始桶(bucket)数
+	 * @param loadFactor 0.0与1.0之间的一个数，用于定义当此过限制时hash表重新
+	 * 　　　　　　hash到一个更大的hash表(对于本哈希表不起作用)
+	 * @exception IllegalArgumentException 假如初始容量小于0
 	 */
 	public IntHashtable( int initialCapacity, float loadFactor ) {
 		if ( initialCapacity < 0 )
@@ -763,36 +763,36 @@ class IntHashtable implements Serializable,Cloneable
 	}
 
 	/*
-	 * ָĳʼһhash
-	 * @param initialCapacity ʼ
+	 * 用指定的初始容量构造一个空hash表
+	 * @param initialCapacity 初始容量
 	 */
 	public IntHashtable( int initialCapacity ) {
 		this( initialCapacity, 0.75f );
 	}
 
 	/*
-	 * һhash
+	 * 构造一个空hash表
 	 */
 	public IntHashtable() {
 		this( 11, 0.75f );
 	}
 
 	/*
-	 * hashԪظ
+	 * 返回hash表中元素个数
 	 */
 	public int size() {
 		return count;
 	}
 
 	/*
-	 * hashǷΪ
+	 * 检查hash表是否为空
 	 */
 	public boolean isEmpty() {
 		return count == 0;
 	}
 
 	/*
-	 * ȡhashkeyѭ(iterator)
+	 * 取得hash表中key的循环器(iterator)
 	 * @see IntHashtable#valueIterator
 	 */
 	public Iterator keyIterator() {
@@ -800,7 +800,7 @@ class IntHashtable implements Serializable,Cloneable
 	}
 
 	/*
-	 * ȡhashvalueѭ(iterator)
+	 * 取得hash表中value的循环器(iterator)
 	 * @see IntHashtable#keyIterator
 	 */
 	public java.util.Iterator valueIterator() {
@@ -808,7 +808,7 @@ class IntHashtable implements Serializable,Cloneable
 	}
 
 	/*
-	 * ȡhashkeyö(enumeration)
+	 * 取得hash表中key的枚举器(enumeration)
 	 * @see IntHashtable#elements
 	 */
 	public Enumerator keys() {
@@ -816,7 +816,7 @@ class IntHashtable implements Serializable,Cloneable
 	}
 
 	/*
-	 * ȡhashvalueö(enumeration)
+	 * 取得hash表中value的枚举器(enumeration)
 	 * @see IntHashtable#keys
 	 */
 	public Enumeration elements() {
@@ -824,8 +824,8 @@ class IntHashtable implements Serializable,Cloneable
 	}
 
 	/*
-	 * hashǷָvalue
-	 * @param value Ҫҵvalue
+	 * 检查hash表中是否有指定value
+	 * @param value 需要查找的value
 	 * @see IntHashtable#containsKey
 	 */
 	public boolean contains( Object value ) {
@@ -846,8 +846,8 @@ class IntHashtable implements Serializable,Cloneable
 	}
 
 	/*
-	 * hashǷָkey
-	 * @param key Ҫҵkey
+	 * 检查hash表中是否有指定的key
+	 * @param key 要查找的key
 	 * @see IntHashtable#contains
 	 */
 	public boolean containsKey( int key ) {
@@ -860,8 +860,8 @@ class IntHashtable implements Serializable,Cloneable
 	}
 
 	/*
-	 * ȡhashָkeyӦvalue
-	 * @param key ָkey
+	 * 取hash表中与指定key对应的value
+	 * @param key 指定的key
 	 * @see IntHashtable#put
 	 */
 	public Object get( int key ) {
@@ -875,9 +875,9 @@ class IntHashtable implements Serializable,Cloneable
 
 
 	/*
-	 * ָkeyָvaluehash
-	 * @param key ָkey
-	 * @param value ָvalueΪnullɾԭеkey
+	 * 把指定的key与指定的value放入hash表
+	 * @param key 指定的key
+	 * @param value 指定的value，若为null，则删除原有的key
 	 * @see IntHashtable#get
 	 */
 	public Object put( int key, Object value ) {
@@ -909,9 +909,9 @@ class IntHashtable implements Serializable,Cloneable
 	}
 
 	/*
-	 * ߶ӦָkeyԪأָkeyڣֱӷ
-	 * @param key ָkey
-	 * @return ָkeyӦvaluekeyڣ򷵻null
+	 * 移走对应于指定key的元素，若指定的key不存在，则直接返回
+	 * @param key 指定的key
+	 * @return 指定key对应的value，若key不存在，则返回null
 	 */
 	public Object remove( int key ) {
 		int[] keys = this.keys;
@@ -941,7 +941,7 @@ class IntHashtable implements Serializable,Cloneable
 
 
 	/*
-	 * hash
+	 * 清空hash表
 	 */
 	public void clear() {
 		Object[] objs = this.objs;
@@ -951,7 +951,7 @@ class IntHashtable implements Serializable,Cloneable
 	}
 
 	/*
-	 * ¡hash
+	 * 克隆hash表
 	 */
 	public Object clone() {
 		try {
@@ -1,12 +1,12 @@
 package com.scudata.common;
 
 /**
- * ȿ¡ӿ
+ * 深度克隆接口
  */
 public interface ICloneable {
 	/**
-	 * ȿ¡
-	 *@return ¡Ķ
+	 * 深度克隆
+	 *@return 克隆出的对象
 	 */
 	public Object deepClone();
 }
@@ -10,7 +10,7 @@ public class IOUtils
 
 	
 	/**
-	 * ж ļǷ̷://ͷ(\/Ч)
+	 * 判断 文件名是否以盘符:/或/开头(\和/等效)
 	 */
 	public static boolean isAbsolutePath(String fileName){
 		int len = fileName.length();
@@ -25,8 +25,8 @@ public class IOUtils
 	}
 	
 	/**
-	 * ȡӺϲ·,/滻\
-	 * @return String parentΪnullchildΪnull·ʱchildparentchildϲ󷵻
+	 * 取父子合并后的路径,并以/替换\
+	 * @return String parent为null、child为null或绝对路径时均返回child，否则将parent与child合并后返回
 	 */
 	public static String getPath(String parent, String child){
 		if(parent==null || child==null || isAbsolutePath(child))
@@ -35,7 +35,7 @@ public class IOUtils
 	}
 	
 	/**
-	 * ·ǰ߳װIOUtilsװļ
+	 * 按绝对路径、当前线程类装载器、IOUtils类装载器次序查找文件
 	 */
 	public static InputStream findResource(String fileName) {
 		InputStream in = null;
@@ -62,8 +62,8 @@ public class IOUtils
 	}
 	
 	/**
-	 * ·ָ·ǰ߳װIOUtilsװļ
-	 * עpathΪnullʱͬfindResourde(fileName)
+	 * 按绝对路径、指定路径、当前线程类装载器、IOUtils类装载器次序查找文件
+	 * 注：path为null时等同于findResourde(fileName)
 	 */
 	public static InputStream findResource(String fileName, String path) {
 		if ( path == null )
@@ -97,9 +97,9 @@ public class IOUtils
 	}
 	
 	/**
-	 * жȡֽ飬׳EOFException
-	 * @param in 
-	 * @param bytes Ŀ
+	 * 从输入流中读取字节填满数组，如果填不满则抛出EOFException
+	 * @param in 输入流
+	 * @param bytes 目的数组
 	 * @throws IOException
 	 */
 	public static void readFully( InputStream in, byte[] bytes ) throws IOException{
@@ -116,11 +116,11 @@ public class IOUtils
 	}
 
 	/**
-	 * жȡֽ飬ļû
-	 * @param in 
-	 * @param bytes Ŀ
+	 * 从输入流中读取字节填满数组，如果文件结束则可能没有填满
+	 * @param in 输入流
+	 * @param bytes 目的数组
 	 * @throws IOException
-	 * @return int ֽ
+	 * @return int 填入的字节数
 	 */
 	public static int readBytes( InputStream in, byte[] bytes ) throws IOException{
 		int count = bytes.length;
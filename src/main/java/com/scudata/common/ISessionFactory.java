@@ -2,7 +2,7 @@ package com.scudata.common;
 
 public interface ISessionFactory {
 	/**
-	 * ȡԴ
+	 * 取数据源连接
 	 */
 	public DBSession getSession() throws Exception;
 
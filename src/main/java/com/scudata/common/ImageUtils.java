@@ -33,10 +33,10 @@ public class ImageUtils
 			return (BufferedImage)image;
 		}
 
-		//ȷͼװ
+		//确保图像的所有像素装载
 		image = new ImageIcon(image).getImage();
 
-		//Ƿ͸
+		//检查是否有透明
 		boolean hasAlpha = hasAlpha(image);
 		int type = BufferedImage.TYPE_INT_RGB;
 		if (hasAlpha) {
@@ -54,7 +54,7 @@ public class ImageUtils
 	public static Image cutImage(Image image, int cutW, int cutH) {
 		image = new ImageIcon(image).getImage();
 
-		//Ƿ͸
+		//检查是否有透明
 		boolean hasAlpha = hasAlpha(image);
 		int type = BufferedImage.TYPE_INT_RGB;
 		if (hasAlpha) {
@@ -73,7 +73,7 @@ public class ImageUtils
 		drawFixedImage(g,srcImg,BackGraphConfig.MODE_NONE,x,y,fixW,fixH);
 	}
 /**
- * ̶λúͿߣsrcImgֲõ
+ * 给定固定位置和宽高，画srcImg，超出部分裁掉
  * @param g
  * @param srcImg
  * @param x
@@ -116,14 +116,14 @@ public class ImageUtils
 	}
 	
 	/**
-	 * ƹ̶ͼΣ߽ͼζص
+	 * 绘制固定图形，超出边界的图形都会截掉
 	 * @param g
 	 * @param img
 	 * @param x
 	 * @param y
-	 * @param sideRightұ߽
-	 * @param sideBottom±߽
-	 * @return ƷtrueԽ󣬷false
+	 * @param sideRight，右边界
+	 * @param sideBottom，下边界
+	 * @return 正常绘制返回true，越界后，返回false
 	 */
 	public static boolean drawFixImage(Graphics g,Image img, int x, int y, int sideRight, int sideBottom){
 		if(x>sideRight){
@@ -158,7 +158,7 @@ public class ImageUtils
 			return (BufferedImage)image;
 		}
 
-		//Ƿ͸
+		//检查是否有透明
 		boolean hasAlpha = image.getColorModel().hasAlpha();
 		int type = BufferedImage.TYPE_INT_RGB;
 		if (hasAlpha) {
@@ -178,7 +178,7 @@ public class ImageUtils
 	}
 	
 	
-	//REPORT-107  added by hhw2013.9.24 бߵհ
+	//REPORT-107  added by hhw2013.9.24 斜线导出空白
 	public static void writeGIF( Image img, OutputStream out ) throws IOException {
 		GifEncoder enc = new GifEncoder( img, out );
 		enc.encode();
@@ -31,7 +31,7 @@ public class IntArrayList extends AbstractList<Integer> implements Serializable
 		return _size;
 	}
 
-	// Ա
+	// 重设成员数
 	public void setSize(int size) {
 		this._size = size;
 	}
@@ -43,7 +43,7 @@ public class IntArrayList extends AbstractList<Integer> implements Serializable
 	}
 
 	public int getInt(int index) {
-		// ϲ㸺Ч
+		// 有上层负责索引的有效性
 		//checkRange(index);
 		return _data[index];
 	}
@@ -212,11 +212,11 @@ public class IntArrayList extends AbstractList<Integer> implements Serializable
 	}
 	
 	/**
-	 * ַԪأԪ
-	 * @param key ҵԪֵ
-	 * @param low ʼλã
-	 * @param high λã
-	 * @return Ԫλã-insert position - 1
+	 * 二分法查找元素，元素有序
+	 * @param key 待查找的元素值
+	 * @param low 起始位置，包括
+	 * @param high 结束位置，包括
+	 * @return 返回元素位置，或-insert position - 1
 	 */
 	public int binarySearch(int key, int low, int high) {
 		while (low <= high) {
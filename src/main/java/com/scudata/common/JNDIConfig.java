@@ -6,17 +6,17 @@ public class JNDIConfig extends DBInfo implements Cloneable, Serializable
 	private String jndi;
 
 	/**
-	 * ʼ
-	 * @param dbType	ݿ
+	 * 初始化
+	 * @param dbType	数据库类型
 	 */
 	public JNDIConfig( int dbType ) {
 		super(dbType);
 	}
 
 	/**
-	 * ʼ
-	 * @param dbType	ݿ
-	 * @param jndi	jndi
+	 * 初始化
+	 * @param dbType	数据库类型
+	 * @param jndi	jndi串
 	 */
 	public JNDIConfig( int dbType, String jndi ) {
 		super(dbType);
@@ -24,7 +24,7 @@ public class JNDIConfig extends DBInfo implements Cloneable, Serializable
 	}
 
 	/**
-	 * jndi
+	 * 设置jndi
 	 * @param jndi
 	 */
 	public void setJNDI( String jndi ) {
@@ -32,7 +32,7 @@ public class JNDIConfig extends DBInfo implements Cloneable, Serializable
 	}
 
 	/**
-	 * ȡjndi
+	 * 获取jndi
 	 * @return
 	 */
 	public String getJNDI() {
@@ -40,7 +40,7 @@ public class JNDIConfig extends DBInfo implements Cloneable, Serializable
 	}
 
 	/**
-	 * ӹ
+	 * 创建连接工厂
 	 */
 	public ISessionFactory createSessionFactory() throws Exception {
 		return new JNDISessionFactory( this );
@@ -9,8 +9,8 @@ public class JNDISessionFactory implements ISessionFactory
 	private DataSource ds;
 
 	/**
-	 * ʼ
-	 * @param cfg	jndi
+	 * 初始化
+	 * @param cfg	jndi配置
 	 * @throws Exception
 	 */
 	public JNDISessionFactory( JNDIConfig cfg ) throws Exception {
@@ -22,10 +22,10 @@ public class JNDISessionFactory implements ISessionFactory
 	}
 
 	/**
-	 * ȡSession
+	 * 获取连接Session
 	 */
 	public DBSession getSession() throws Exception {
-		// edited by bd, 2017.5.31ConnectionȫΪԶύ
+		// edited by bd, 2017.5.31，Connection全部设为不自动提交。
 		Connection con = ds.getConnection();
 		try{ con.setAutoCommit(false); }catch( Throwable t ) {}
 		return new DBSession(con, cfg);
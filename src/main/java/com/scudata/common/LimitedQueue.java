@@ -4,35 +4,35 @@ import java.util.EmptyStackException;
 import java.util.Vector;
 
 /**
- * ƴСĶ
+ * 限制大小的队列
  */
 public final class LimitedQueue {
 
 	/**
-	 * ĳԱ
+	 * 容器的成员上限
 	 */
 	private int maxSize = Integer.MAX_VALUE;
 	/**
-	 * 
+	 * 容器
 	 */
 	private Vector<Object> stack = new Vector<Object>();
 
 	/**
-	 * Ƿ˱仯
+	 * 是否发生了变化
 	 */
 	private boolean changed = false;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public LimitedQueue() {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param maxSize
-	 *            󳤶
+	 *            最大长度
 	 */
 	public LimitedQueue(int maxSize) {
 		if (maxSize <= 0) {
@@ -42,7 +42,7 @@ public final class LimitedQueue {
 	}
 
 	/**
-	 * ȡǷ˱仯
+	 * 取是否发生了变化
 	 * 
 	 * @return
 	 */
@@ -51,14 +51,14 @@ public final class LimitedQueue {
 	}
 
 	/**
-	 * Ƿ˱仯
+	 * 设置是否发生了变化
 	 */
 	public void setUnChanged() {
 		changed = false;
 	}
 
 	/**
-	 * 󳤶ȣȵ
+	 * 设置最大长度，并清除超出长度的数据
 	 */
 	public void setMaxSize(int maxSize) {
 		if (maxSize <= 0) {
@@ -72,24 +72,24 @@ public final class LimitedQueue {
 	}
 
 	/**
-	 * ȡջ󳤶
+	 * 取堆栈最大长度
 	 */
 	public int getMaxSize() {
 		return maxSize;
 	}
 
 	/**
-	 * ȡջԪظ
+	 * 取堆栈中元素个数
 	 */
 	public int size() {
 		return stack.size();
 	}
 
 	/**
-	 * Ԫؽջ
+	 * 元素进入栈顶
 	 * 
 	 * @param item
-	 *            ջԪ
+	 *            进栈的元素
 	 */
 
 	public Object add(Object item) {
@@ -102,10 +102,10 @@ public final class LimitedQueue {
 	}
 
 	/**
-	 * ȡԱ
+	 * 按序号取成员
 	 * 
 	 * @param index
-	 *            
+	 *            序号
 	 * @return
 	 */
 	public Object get(int index) {
@@ -113,7 +113,7 @@ public final class LimitedQueue {
 	}
 
 	/**
-	 * ׸ԪشӶеǿյ׳EmptyStackException
+	 * 将首个元素从队列中弹出，如果队列是空的抛出EmptyStackException
 	 * 
 	 * @return
 	 */
@@ -125,7 +125,7 @@ public final class LimitedQueue {
 	}
 
 	/**
-	 * 鿴׸ԪأƳ׸Ԫأǿյ׳EmptyStackException
+	 * 查看首个元素，不会移除首个元素，如果队列是空的抛出EmptyStackException
 	 * 
 	 * @return
 	 */
@@ -138,7 +138,7 @@ public final class LimitedQueue {
 	}
 
 	/**
-	 * ջ
+	 * 清空栈
 	 */
 	public void clear() {
 		stack.clear();
@@ -146,21 +146,21 @@ public final class LimitedQueue {
 	}
 
 	/**
-	 * Ƿջ
+	 * 检查是否空栈
 	 */
 	public boolean empty() {
 		return size() == 0;
 	}
 
 	/**
-	 * ջǷ
+	 * 检查栈是否满
 	 */
 	public boolean isFull() {
 		return size() == maxSize;
 	}
 
 	/**
-	 * תַ
+	 * 转成字符串
 	 */
 	public String toString() {
 		int len = size();
@@ -4,30 +4,30 @@ import java.util.EmptyStackException;
 import java.util.Vector;
 
 /**
- * ƴСĶջ
+ * 限制大小的堆栈
  */
 public final class LimitedStack {
 
 	/**
-	 * Ա
+	 * 成员上限
 	 */
 	private int maxSize = Integer.MAX_VALUE;
 	/**
-	 * ջ
+	 * 堆栈
 	 */
 	private Vector<Object> stack = new Vector<Object>();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public LimitedStack() {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param maxSize
-	 *            ջ󳤶
+	 *            堆栈最大长度
 	 */
 	public LimitedStack(int maxSize) {
 		if (maxSize <= 0) {
@@ -37,7 +37,7 @@ public final class LimitedStack {
 	}
 
 	/**
-	 * öջ󳤶ȣȵջ
+	 * 设置堆栈最大长度，并清除超出长度的栈底数据
 	 */
 	public void setMaxSize(int maxSize) {
 		if (maxSize <= 0) {
@@ -50,24 +50,24 @@ public final class LimitedStack {
 	}
 
 	/**
-	 * ȡջ󳤶
+	 * 取堆栈最大长度
 	 */
 	public int getMaxSize() {
 		return maxSize;
 	}
 
 	/**
-	 * ȡջԪظ
+	 * 取堆栈中元素个数
 	 */
 	public int size() {
 		return stack.size();
 	}
 
 	/**
-	 * Ԫؽջ
+	 * 元素进入栈顶
 	 * 
 	 * @param item
-	 *            ջԪ
+	 *            进栈的元素
 	 */
 
 	public Object push(Object item) {
@@ -79,9 +79,9 @@ public final class LimitedStack {
 	}
 
 	/**
-	 * ջԪسջ
+	 * 栈顶元素出栈
 	 * 
-	 * @return ջԪ
+	 * @return 出栈的元素
 	 */
 	public Object pop() {
 		Object obj = peek();
@@ -90,9 +90,9 @@ public final class LimitedStack {
 	}
 
 	/**
-	 * ȡջԪ
+	 * 取栈顶元素
 	 * 
-	 * @return ջԪ
+	 * @return 栈顶元素
 	 */
 	public Object peek() {
 		int len = size();
@@ -103,28 +103,28 @@ public final class LimitedStack {
 	}
 
 	/**
-	 * ջ
+	 * 清空栈
 	 */
 	public void clear() {
 		stack.clear();
 	}
 
 	/**
-	 * Ƿջ
+	 * 检查是否空栈
 	 */
 	public boolean empty() {
 		return size() == 0;
 	}
 
 	/**
-	 * ջǷ
+	 * 检查栈是否满
 	 */
 	public boolean isFull() {
 		return size() == maxSize;
 	}
 
 	/**
-	 * תַ
+	 * 转字符串
 	 */
 	public String toString() {
 		int len = size();
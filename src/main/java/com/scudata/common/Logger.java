@@ -18,28 +18,28 @@ import javax.servlet.ServletContext;
 import com.scudata.dm.Env;
 
 /**
- * ־ΪOFF,SEVERE,WARNING,INFO,DEBUG, ȼνͣOFFߣDEBUGֻͣиڵǰõ־Ż
- * Ҫõ־: 1Ϊż϶־Ŀơ
- * 						2Ϊֻ()־Żᱻ¼ڷ¼
- * ־Ϊ12Ľ
- * 	1ż÷ΪLogger.setLevel(l)ֻиڿż־Żᴫݸ2ȥ¼൱ڹˣżԲã
- * 		ʱȱʡΪͼDEBUGҲ־¼üĶӦConfig.xmlϵͳȶΪʱֱӹر־
- * 	2÷Ϊhandler.setLevel(l)÷ֱܱӵãֻͨLogger.setPropertyConfig(p)
- * 		Ӽһlogger.propertiesļáӦʽ
- * 		Ąʽ
- * 		Bļʽ1˺־
- * 		ŸӦļ߿̨ȻԲã
- * 		ʱȱʡһͼDEBUGĿ̨üĶӦһԤpropertiesļС
+ * 日志级别分为OFF,SEVERE,WARNING,INFO,DEBUG, 优先级依次降低，OFF最高，DEBUG最低，只有高于当前设置的日志级别才会输出。
+ * 要设置的日志级别有两处: 1为看门级别，用于总体上对所有日志的控制。
+ * 						2为输出级别，只有满足(高)于输出级别的日志才会被记录，用于分类记录。
+ * 最终输出的日志为1和2的交集级别。
+ * 	1：看门级别；设置方法为Logger.setLevel(l)，只有高于看门级别的日志才会传递给2去记录，相当于入口过滤，看门级别可以不设置，
+ * 		不设置时缺省为最低级别DEBUG，也即所有日志都记录。该级别的对应配置在Config.xml，用于系统稳定后为提高性能时，直接关闭日志。
+ * 	2：输出级别；设置方法为handler.setLevel(l)，该方法不能被直接调用，只能通过Logger.setPropertyConfig(p)方法
+ * 		间接加载一个logger.properties文件来设置。输出级别对应两种输出方式，
+ * 		A，控制台输出方式；
+ * 		B，文件输出方式。经过1过滤后的日志，
+ * 		才根据输出级别分类输出到相应的文件或者控制台。输出级别仍然可以不设置，
+ * 		不设置时缺省生成一个最低级别DEBUG的控制台输出。该级别的对应配置在一个预定义的properties文件中。
  */
 public class Logger {
-//	־ĴдӦpropertiesļУ泣д
+//	日志级别的串写法，在相应的properties文件中，根据下面常量级别写法定义
 	public static String OFF = "OFF";
 	public static String SEVERE = "SEVERE";
 	public static String WARNING = "WARNING";
 	public static String INFO = "INFO";
 	public static String DEBUG = "DEBUG";
 
-//	־ڱжӦļ	
+//	日志级别在本类中对应的级别号	
 	public static int iDOLOG = -1;
 	public static int iOFF = 0;
 	public static int iSEVERE = 10;
@@ -47,7 +47,7 @@ public class Logger {
 	public static int iINFO = 30;
 	public static int iDEBUG = 40;
 
-//־ļɲͬlogļֹļԼӴ	
+//日志文件会根据日期生成不同的log文件，防止文件集中以及过于庞大	
 	String currentMark;
 
 	private SimpleDateFormat formatter = new SimpleDateFormat("yyyyMMdd");
@@ -81,17 +81,17 @@ public class Logger {
 	}
 
 	/**
-	 * гֵ֧־ıдڽ༭ȡ
-	 * @return	ȫ־ַ
+	 * 列出所有支持的日志级别的文本串写法，可用于界面编辑等。
+	 * @return	包含全部日志级别的字符串数组
 	 */
 	public static String[] listLevelNames() {
 		return new String[] { OFF, SEVERE, WARNING, INFO, DEBUG };
 	}
 
 	/**
-	 * ȡ־ıдӦ־
-	 * @param level	ҪӦ־
-	 * @return	Ӧ־
+	 * 获取日志文本串写法对应的日志级别号
+	 * @param level	要对应的日志级别
+	 * @return	相应的日志级别号
 	 */
 	public static int getLevel(String level) {
 		if (!StringUtils.isValidString(level)) {
@@ -112,9 +112,9 @@ public class Logger {
 	}
 
 	/**
-	 * ȡ־ŵıд
-	 * @param level ҪӦ־
-	 * @return	Ӧ־
+	 * 获取日志级别号的文本串写法
+	 * @param level 要对应的日志级别号
+	 * @return	相应的日志级别
 	 */
 	public static String getLevelName(int level) {
 		if (level == iDOLOG)
@@ -165,25 +165,25 @@ public class Logger {
 	}
 
 	/**
-	 * ͨõpropertiesļԶӦ־ṩ÷ʹóԱֶӦ־
-	 * ÷һļ־
-	 * @param fh	Ҫӵļ
+	 * 通常会从配置的properties文件自动加载相应的日志处理器，提供该方法使得程序员可以手动添加相应的日志处理器。
+	 * 该方法添加一个输出到文件的日志处理器。
+	 * @param fh	需要添加的文件输出处理器
 	 */
 	public static void addFileHandler(FileHandler fh) {
 		logger.handlers.add(fh);
 	}
 
 	/**
-	 * ȱʡ£־Ĭϲһ̨־
-	 * ÷һ̨
-	 * @param ch	̨־
+	 * 缺省情况下，日志会默认产生一个输出到控制台的日志处理器。
+	 * 该方法添加一个控制台处理器。
+	 * @param ch	输出到控制台的日志处理器
 	 */
 	public static void addConsoleHandler(ConsoleHandler ch) {
 		logger.handlers.add(ch);
 	}
 
 	/**
-	 * synchronized ĵ˴ǰhandlerڲ֤ѭhandlersʱ̰߳ȫ
+	 * 将synchronized 改到此处，以前在handler内部，保证循环handlers时的线程安全
 	 * http://111.198.29.167:9000/browse/REPORT-1478
 	 * @param level
 	 * @param msg
@@ -208,7 +208,7 @@ public class Logger {
 		Handler h = null;
 		if (tmp.equalsIgnoreCase("Console")) {
 			h = logger.new ConsoleHandler();
-		} else {// ļ
+		} else {// 文件
 			String file = tmp;
 			tmp = p.getProperty(name + ".Encoding");
 			String buf = p.getProperty(name + ".isFixedFileName");
@@ -227,9 +227,9 @@ public class Logger {
 	}
 
 /**
- * ־propertiesļʱʹø÷ļݶõ־	
- * @param p	ΪԸʽ־
- * @throws Exception ʽʱ׳쳣
+ * 日志的输出处理器定义在properties文件中时，使用该方法加载文件内容定义好的日志处理器。	
+ * @param p	定义为属性格式的日志处理器内容
+ * @throws Exception 格式错误时抛出异常
  */
 	public static void setPropertyConfig(Properties p) throws Exception {
 		logger.clearHandlers();
@@ -247,7 +247,7 @@ public class Logger {
 					logger.addHandler(h);
 				}
 			} catch (Exception x) {
-				// ĳļHandlerʱ쳣ϢӰһ
+				// 某文件Handler出错时，打出异常消息，不影响加载下一个
 				x.printStackTrace();
 			}
 		}
@@ -262,59 +262,59 @@ public class Logger {
 	}
 
 	/**
-	 * ־м¼һϢ÷ڼǰİ汾Ҫø÷
-	 * Ӧ־ΪSEVERE
-	 * @param msg ¼־Ϣ
+	 * 往日志中记录一个错误消息，该方法用于兼容以前的版本，不要调用该方法。
+	 * 对应的日志级别为SEVERE
+	 * @param msg 待记录的日志消息
 	 */
 	public static void error(Object msg) {
 		error(msg, isException(msg));
 	}
 
 	/**
-	 * ¼ĴϢԼ¼ϸ쳣Ϣ
-	 * @param msg ¼־Ϣ
-	 * @param t	Ӧϸ쳣
+	 * 记录描述的错误消息以及录入更详细的异常信息
+	 * @param msg 待记录的日志消息
+	 * @param t	对应的详细异常
 	 */
 	public static void error(Object msg, Throwable t) {
 		severe(msg, t);
 	}
 
 	/**
-	 * ǿƼ¼һϢԼ쳣ʹѾʹOFFȻ
-	 * @param msg ¼־Ϣ
-	 * @param t	Ӧϸ쳣
+	 * 强制记录一个消息以及异常，即使已经使用了OFF级别，仍然会输出。
+	 * @param msg 待记录的日志消息
+	 * @param t	对应的详细异常
 	 */
 	public static void doLog(Object msg, Throwable t) {
 		logger.doLog(iDOLOG, msg, t);
 	}
 
 	/**
-	 * ǿƼ¼һϢʹѾʹOFFȻ
-	 * @param msg ¼־Ϣ
+	 * 强制记录一个消息，即使已经使用了OFF级别，仍然会输出。
+	 * @param msg 待记录的日志消息
 	 */
 	public static void doLog(Object msg) {
 		doLog(msg, null);
 	}
 
 	/**
-	 * ڼ¼еسüϢʱû鿴־ȷԭ
-	 * @param msg ¼־Ϣͨڼ߲쳣ϸ
-	 * @param t	Ӧϸ쳣
+	 * 用于记录代码中的严重出错，该级别的消息时用户必须查看日志来确定错误原因。
+	 * @param msg 待记录的日志消息，通常用于加深或者补充异常的详细描述
+	 * @param t	对应的详细异常
 	 */
 	public static void severe(Object msg, Throwable t) {
 		logger.doLog(iSEVERE, msg, t);
 	}
 
 	/**
-	 * 򵥼¼еϢ
-	 * @param msg	¼ϢϢı¼ı쳣࣬Ӧsevere(msg,t)
+	 * 简单记录代码中的严重消息
+	 * @param msg	待记录的消息，该消息如果是文本串，则记录文本串；如果是异常类，则会调用相应的severe(msg,t)方法
 	 */
 	public static void severe(Object msg) {
 		severe(msg, isException(msg));
 	}
 
 	/**
-	 * ͬwarningǰ汾ļݣҪø÷
+	 * 同warning方法，用于以前版本的兼容，不要调用该方法。
 	 * @param msg
 	 */
 	public static void warn(Object msg) {
@@ -326,59 +326,59 @@ public class Logger {
 	}
 
 	/**
-	 * ϸ¼һϢԼӦ쳣
-	 * @param msg	¼Ϣ
-	 * @param t	Ӧϸ쳣
+	 * 详细记录一个警告消息以及相应异常
+	 * @param msg	待记录的消息
+	 * @param t	对应的详细异常
 	 */
 	public static void warning(Object msg, Throwable t) {
 		logger.doLog(iWARNING, msg, t);
 	}
 
 	/**
-	 * ¼һϢ
-	 * @param msg	¼Ϣ
+	 * 记录一个警告消息
+	 * @param msg	待记录的消息
 	 */
 	public static void warning(Object msg) {
 		warning(msg, isException(msg));
 	}
 
 	/**
-	 * ϸ¼һͨϢԼӦ쳣
-	 * @param msg	¼Ϣ
-	 * @param t	Ӧϸ쳣
+	 * 详细记录一个普通消息以及相应异常
+	 * @param msg	待记录的消息
+	 * @param t	对应的详细异常
 	 */
 	public static void info(Object msg, Throwable t) {
 		logger.doLog(iINFO, msg, t);
 	}
 
 	/**
-	 * 򵥼¼һͨϢ
-	 * @param msg	¼Ϣ
+	 * 简单记录一个普通消息
+	 * @param msg	待记录的消息
 	 */
 	public static void info(Object msg) {
 		info(msg, isException(msg));
 	}
 
 	/**
-	 * ϸ¼һϢԼӦ쳣
-	 * @param msg	¼Ϣ
-	 * @param t	Ӧϸ쳣
+	 * 详细记录一个调试消息以及相应异常
+	 * @param msg	待记录的消息
+	 * @param t	对应的详细异常
 	 */
 	public static void debug(Object msg, Throwable t) {
 		logger.doLog(iDEBUG, msg, t);
 	}
 
 	/**
-	 * 򵥼¼һϢ
-	 * @param msg	¼Ϣ
+	 * 简单记录一个调试消息
+	 * @param msg	待记录的消息
 	 */
 	public static void debug(Object msg) {
 		debug(msg, isException(msg));
 	}
 
 	/**
-	 * жϵǰ־ĿżǷΪģʽ
-	 * @return Ƿģʽ
+	 * 判断当前日志的看门级别是否为调试模式
+	 * @return 是否调试模式
 	 */
 	public static boolean isDebugLevel() {
 		int level = gateLevel;
@@ -386,16 +386,16 @@ public class Logger {
 	}
 
 	/**
-	 * ͨ£ģʽм־ǰ汾ǷԼдҪø÷
-	 * @return Ƿģʽ
+	 * 通常情形下，调试模式会输出所有级别的日志，兼容以前版本的是否调试级别写法，不要调用该方法。
+	 * @return 是否调试模式
 	 */
 	public static boolean isAllLevel() {
 		return isDebugLevel();
 	}
 
 	/**
-	 * õǰ־ļ¼
-	 * @param level	ļ־
+	 * 设置当前日志的记录级别
+	 * @param level	该文件定义的日志级别常量串
 	 */
 	public static void setLevel(String level) {
 		int l = getLevel(level);
@@ -404,8 +404,8 @@ public class Logger {
 	}
 
 	/**
-	 * ȡǰ־¼
-	 * @return	ؼ¼
+	 * 获取当前日志记录级别
+	 * @return	返回记录级别号
 	 */
 	public static int getLevel() {
 		return gateLevel;
@@ -416,7 +416,7 @@ public class Logger {
 	}
 
 	private Object[] getLogFile(String fileName, boolean isFixedFileName) {
-		Object[] files = new Object[2];//0عFile1ؾ·
+		Object[] files = new Object[2];//第0返回工作File，第1返回绝对路径
 		File f = new File(fileName);
 		if (!f.isAbsolute()) {
 			String home = System.getProperty("start.home");
@@ -428,11 +428,11 @@ public class Logger {
 					home = sc.getRealPath("/");
 				}
 				if (home != null) {
-					f = new File(home, fileName);// webӦõĸĿ¼
+					f = new File(home, fileName);// 相对于web应用的根目录
 				} else {
-					// ΪwarʱhomeȻΪnullʱڵǰĹ·Ҳweb
-					// serverexe·
-					f = new File(f.getAbsolutePath());// ڵǰ·ļ
+					// 这种情况为war包发布时，home仍然会为null，此时相对于当前的工作路径，也即web
+					// server的启动exe的路径。
+					f = new File(f.getAbsolutePath());// 在当前工作路径下文件
 				}
 			}
 			files[1] = f.getAbsolutePath();
@@ -494,7 +494,7 @@ public class Logger {
 		void doLog(int level, String msg) {
 			if (level > logLevel)
 				return;
-			System.err.println(msg);// outݣdos̨ռ
+			System.err.println(msg);// out用于输出数据，可在dos控制台收集
 		}
 
 		void close() {
@@ -504,7 +504,7 @@ public class Logger {
 	public class FileHandler extends Handler {
 		String fileName, encoding = "UTF-8";
 		boolean isFixedFileName = false;
-		String absolutePath = null;//ڹ·ļʱĲͬɾ·һ£Ͼ·һļɾ·Ժ·øþ·
+		String absolutePath = null;//由于构造相对路径的文件时，构造条件的不同可能造成绝对路径不一致，加上绝对路径，用于一旦文件生成绝对路径后，以后所有路径都用该绝对路径
 		BufferedWriter br = null;
 		FileOutputStream fos = null;
 
@@ -611,10 +611,10 @@ public class Logger {
 		Thread t3 = new Thread() {
 			public void run() {
 				String name = "t3:";
-				Logger.severe(name + "");
-				Logger.warning(name + "");
-				Logger.info(name + "Ϣ");
-				Logger.debug(name + "");
+				Logger.severe(name + "严重");
+				Logger.warning(name + "警告");
+				Logger.info(name + "信息");
+				Logger.debug(name + "调试");
 			}
 		};
 		t1.start();
@@ -2,23 +2,23 @@ package com.scudata.common;
 
 /**
  * **********************************************
- * MD5 㷨Java Bean
+ * MD5 算法的Java Bean
  * **********************************************
  */
 
 /**
  * ***********************************************
- * md5 ʵRSA Data Security, Inc.ύIETF
- * RFC1321еMD5 message-digest 㷨
+ * md5 类实现了RSA Data Security, Inc.在提交给IETF
+ * 的RFC1321中的MD5 message-digest 算法。
  * **********************************************
  */
 
 public class MD5 {
 
 	/*
-	 * ЩS11-S44ʵһ4*4ľԭʼCʵ#define ʵֵģ
-	 * ʵֳΪstatic finalǱʾֻͬһ̿ռڵĶ
-	 * Instance乲
+	 * 下面这些S11-S44实际上是一个4*4的矩阵，在原始的C实现中是用#define 实现的，
+	 * 这里把它们实现成为static final是表示了只读，切能在同一个进程空间内的多个
+	 * Instance间共享
 	 */
 	static final int S11 = 7;
 	static final int S12 = 12;
@@ -46,8 +46,8 @@ public class MD5 {
 	};
 
 	/*
-	 * ԱMD5õ3ݣԭʼCʵ
-	 * 嵽MD5_CTXṹ
+	 * 下面的三个成员是MD5计算过程中用到的3个核心数据，在原始的C实现中
+	 * 被定义到MD5_CTX结构中
 	 *
 	 */
 	private long[] state; // state (ABCD)
@@ -55,12 +55,12 @@ public class MD5 {
 	private byte[] buffer; // input buffer
 
 	/*
-	 * digest,һμ2ڲʾʾ128bitMD5ֵ.
+	 * digest,是最新一次计算结果的2进制内部表示，表示128bit的MD5值.
 	 */
 
 	/*
-	 * getMD5ofStrMD5ҪĹڲҪMD5任ַ
-	 * صǱ任ĽǴӹԱdigestHexStrȡõģ
+	 * getMD5ofStr是类MD5最主要的公共方法，入口参数是你想要进行MD5变换的字符串
+	 * 返回的是变换完的结果，这个结果是从公共成员digestHexStr取得的．
 	 */
 	public String getMD5ofStr(String inbuf) {
 		byte[] digest;
@@ -81,11 +81,11 @@ public class MD5 {
 		return digestHexStr;
 	}
 
-	// MD5ı׼캯JavaBeanҪһpublicĲûвĹ캯
+	// 这是MD5这个类的标准构造函数，JavaBean要求有一个public的并且没有参数的构造函数
 	public MD5() {
 	}
 
-	/* md5Initһʼʼıװ׼Ļ */
+	/* md5Init是一个初始化函数，初始化核心变量，装入标准的幻数 */
 	public void md5Init() {
 		state = new long[4]; // state (ABCD)
 		count = new long[2]; // number of bits, modulo 2^64 (lsb first)
@@ -105,9 +105,9 @@ public class MD5 {
 	}
 
 	/*
-	 * F, G, H ,I 4MD5ԭʼMD5CʵУ
-	 * 򵥵λ㣬ܳЧʵĿǰʵֳ˺꣬javaУǰ
-	 * ʵֳprivateֱԭCеġ
+	 * F, G, H ,I 是4个基本的MD5函数，在原始的MD5的C实现中，由于它们是
+	 * 简单的位运算，可能出于效率的考虑把它们实现成了宏，在java中，我们把它们
+	 * 　　实现成了private方法，名字保持了原来C中的。
 	 */
 
 	private long F(long x, long y, long z) {
@@ -129,7 +129,7 @@ public class MD5 {
 	}
 
 	/*
-	 * FF,GG,HHIIF,G,H,Iнһ任
+	 * FF,GG,HH和II将调用F,G,H,I进行近一步变换
 	 * FF, GG, HH, and II transformations for rounds 1, 2, 3, and 4.
 	 * Rotation is separate from addition to prevent recomputation.
 	 */
@@ -163,8 +163,8 @@ public class MD5 {
 	}
 
 	/*
-	 * md5UpdateMD5̣inbufҪ任ֽڴinputlenǳȣ
-	 * getMD5ofStrã֮ǰҪmd5init˰Ƴprivate
+	 * md5Update是MD5的主计算过程，inbuf是要变换的字节串，inputlen是长度，这个
+	 * 函数由getMD5ofStr调用，调用之前需要调用md5init，因此把它设计成private的
 	 */
 	public void md5Update(byte[] inbuf, int inputLen) {
 
@@ -204,7 +204,7 @@ public class MD5 {
 	}
 
 	/*
-	 * md5Finalд
+	 * md5Final整理和填写输出结果
 	 */
 	public byte[] md5Final() {
 		byte[] digest = new byte[16];
@@ -228,8 +228,8 @@ public class MD5 {
 	}
 
 	/*
-	 * md5MemcpyһڲʹõbyteĿ鿽inputinposʼlenȵ
-	 *  ֽڿoutputoutposλÿʼ
+	 * md5Memcpy是一个内部使用的byte数组的块拷贝函数，从input的inpos开始把len长度的
+	 * 　　　　　 字节拷贝到output的outpos位置开始
 	 */
 
 	private void md5Memcpy(byte[] output, byte[] input, int outpos, int inpos, int len) {
@@ -241,7 +241,7 @@ public class MD5 {
 	}
 
 	/*
-	 * md5TransformMD5ı任md5UpdateãblockǷֿԭʼֽ
+	 * md5Transform是MD5核心变换程序，有md5Update调用，block是分块的原始字节
 	 */
 	private void md5Transform(byte block[]) {
 		long a = state[0], b = state[1], c = state[2], d = state[3];
@@ -329,8 +329,8 @@ public class MD5 {
 	}
 
 	/*
-	 * Encodelong鰴˳byte飬Ϊjavalong64bitģ
-	 * ֻ32bitӦԭʼCʵֵ;
+	 * Encode把long数组按顺序拆成byte数组，因为java的long类型是64bit的，
+	 * 只拆低32bit，以适应原始C实现的用途
 	 */
 	private void Encode(byte[] output, long[] input, int len) {
 		int i, j;
@@ -344,8 +344,8 @@ public class MD5 {
 	}
 
 	/*
-	 * Decodebyte鰴˳ϳɳlong飬Ϊjavalong64bitģ
-	 * ֻϳɵ32bit32bit㣬ӦԭʼCʵֵ;
+	 * Decode把byte数组按顺序合成成long数组，因为java的long类型是64bit的，
+	 * 只合成低32bit，高32bit清零，以适应原始C实现的用途
 	 */
 	private void Decode(long[] output, byte[] input, int len) {
 		int i, j;
@@ -359,15 +359,15 @@ public class MD5 {
 	}
 
 	/*
-	 * b2iuдһbyteղŵԭģλΪjavaûunsigned
+	 * b2iu是我写的一个把byte按照不考虑正负号的原则的＂升位＂程序，因为java没有unsigned运算
 	 */
 	public static long b2iu(byte b) {
 		return b < 0 ? b & 0x7F + 128 : b;
 	}
 
 	/*
-	 * byteHEX()һbyte͵תʮƵASCIIʾ
-	 * ΪjavaеbytetoString޷ʵһ㣬ûCе
+	 * byteHEX()，用来把一个byte类型的数转换成十六进制的ASCII表示，
+	 * 　因为java中的byte的toString无法实现这一点，我们又没有C语言中的
 	 * sprintf(outbuf,"%02X",ib)
 	 */
 	public static String byteHEX(byte ib) {
@@ -450,7 +450,7 @@ public class MD5 {
 		m = new MD5();
 		System.out.println(m.getMD5ofStr("abcdefghi"));
 		//if ( Array.getLength( args ) == 0 )
-		//{		// ûвִб׼Test Suite
+		//{		// 如果没有参数，执行标准的Test Suite
 
 		System.out.println("MD5 Test suite:");
 		System.out.println("MD5(\"\"):" + m.getMD5ofStr(""));
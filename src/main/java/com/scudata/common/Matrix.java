@@ -3,7 +3,7 @@ package com.scudata.common;
 import java.io.*;
 
 /**
- * 
+ * 矩阵
  */
 public class Matrix
 	implements Externalizable {
@@ -333,10 +333,10 @@ public class Matrix
 		this.colSize -= count;
 	}
 
-	/*************************¼̳Externalizable************************/
+	/*************************以下继承自Externalizable************************/
 	/**
-	 * дݵ
-	 *@param out 
+	 * 写内容到流
+	 *@param out 输出流
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
 		out.writeByte( (byte)1);
@@ -353,8 +353,8 @@ public class Matrix
 	}
 
 	/**
-	 * ж
-	 *@param in 
+	 * 从流中读内容
+	 *@param in 输入流
 	 */
 	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 		byte version = in.readByte();
@@ -372,8 +372,8 @@ public class Matrix
 	}
 
 	/**
-	 * еλ
-	 * @param rowIndex int[] Դек
+	 * 调整行的位置
+	 * @param rowIndex int[] 调整后的行在源矩阵中的行号
 	 */
 	public void changeRowOrder(int []rowSeqs) {
 		Object []tmp = new Object[rowSize];
@@ -386,8 +386,8 @@ public class Matrix
 	}
 
 	/**
-	 * ɾУкŴС
-	 * @param rowSeqs int[] к飬С
+	 * 删除多行，行号从小到大有序
+	 * @param rowSeqs int[] 行号数组，从小到大有序
 	 */
 	public void deleteRows(int []rowSeqs) {
 		if (rowSeqs == null || rowSeqs.length == 0) return;
@@ -407,7 +407,7 @@ public class Matrix
 			copyCount += curCount;
 		}
 
-		// ʣµ
+		// 复制剩下的
 		System.arraycopy(data, prev, newData, copyCount, this.rowSize - prev);
 
 		this.data = newData;
@@ -415,8 +415,8 @@ public class Matrix
 	}
 
 	/**
-	 * ӶУкŴС
-	 * @param rowSeqs int[] к飬С
+	 * 添加多行，行号从小到大有序
+	 * @param rowSeqs int[] 行号数组，从小到大有序
 	 */
 	public void insertRows(int []rowSeqs) {
 		if (rowSeqs == null || rowSeqs.length == 0) return;
@@ -440,7 +440,7 @@ public class Matrix
 			copyCount++;
 		}
 
-		// ʣµ
+		// 复制剩下的
 		System.arraycopy(data, prev, newData, copyCount, this.rowSize - prev);
 
 		this.data = newData;
@@ -448,11 +448,11 @@ public class Matrix
 	}
 
 	/**
-	 * λã[startRow1, endRow1][startRow2, endRow2]ǰ
-	 * @param startRow1 int 1ʼ
-	 * @param endRow1 int 1Ľ
-	 * @param startRow2 int 2ʼ
-	 * @param endRow2 int 2Ľ
+	 * 交换两个区域的位置，[startRow1, endRow1]在[startRow2, endRow2]的前面
+	 * @param startRow1 int 区域1的起始行
+	 * @param endRow1 int 区域1的结束行
+	 * @param startRow2 int 区域2的起始行
+	 * @param endRow2 int 区域2的结束行
 	 */
 	public void exchangeArea(int startRow1, int endRow1, int startRow2, int endRow2) {
 		int totalLen = endRow2 - startRow1 + 1;
@@ -469,30 +469,30 @@ public class Matrix
 	}
 
 	/**
-	 * ƶĳһָλ
-	 * @param start int ʼ
-	 * @param end int 
-	 * @param targetRow int Ŀλ
+	 * 移动某一区域到指定位置
+	 * @param start int 起始行
+	 * @param end int 结束行
+	 * @param targetRow int 目标位置
 	 */
 	public void moveRows(int start, int end, int targetRow) {
 		int count = end - start + 1;
 		Object [][]rows = new Object[count][];
 		System.arraycopy(data, start, rows, 0, count);
 
-		if (start > targetRow) { // 
+		if (start > targetRow) { // 上移
 			System.arraycopy(data, targetRow, data, targetRow + count, start - targetRow);
 			System.arraycopy(rows, 0, data, targetRow, count);
-		} else { // 
+		} else { // 下移
 			System.arraycopy(data, end + 1, data, start, targetRow - end - 1);
 			System.arraycopy(rows, 0, data, targetRow - count, count);
 		}
 	}
 
 	/**
-	 * 滻ָε
-	 * @param start int ʼ
-	 * @param end int 
-	 * @param rows Object[][] Ҫӵ
+	 * 替换指定区段的行
+	 * @param start int 起始行
+	 * @param end int 结束行
+	 * @param rows Object[][] 要添加的行数组
 	 */
 	public void replace(int start, int end, Object [][]rows) {
 		if (rows == null || rows.length == 0) {
@@ -514,7 +514,7 @@ public class Matrix
 	}
 
 	/**
-	 * c1c2еλ
+	 * 交换c1、c2两列的位置
 	 * @param c1 int
 	 * @param c2 int
 	 */
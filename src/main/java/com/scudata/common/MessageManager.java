@@ -4,7 +4,7 @@ import java.text.MessageFormat;
 import java.util.*;
 
 /**
- * Ϣı
+ * 消息文本管理器
  */
 public class MessageManager {
 	private static List<ClassLoader> clList = new ArrayList<ClassLoader>(8); 
@@ -12,7 +12,7 @@ public class MessageManager {
 		clList.add(MessageManager.class.getClassLoader());
 	}
 	
-	/** ӲԴ· */
+	/** 增加查找资源的类路径 */
 	public static synchronized void addClassLoader(ClassLoader cl) {
 		for(ClassLoader tmp : clList) {
 			if(cl==tmp) return;
@@ -51,15 +51,15 @@ public class MessageManager {
 	}
 
 	/**
-	 * ԴаֵȡϢı
+	 * 从资源束中按键值取消息文本串
 	 *
 	 * @param key
-	 *            ֵ
+	 *            键值
 	 */
 	public String getMessage(String key) {
 		if (key == null)
 			throw new IllegalArgumentException("key may not be a null value");
-		String msg = key;// null; ĳҲ巵KeyӢĿԲöԴȱʡKeyxq
+		String msg = key;// null; 改成找不到定义返回Key本身，这样英文可以不用定义资源，或者缺省就用Key，xq
 							// 2014.9.25
 		try {
 			msg = bundle.getString(key);
@@ -69,12 +69,12 @@ public class MessageManager {
 	}
 
 	/**
-	 * ԴаֵȡϢļָĲиʽ
+	 * 从资源束中按键值取消息文件串，并用指定的参数进行格式化
 	 *
 	 * @param key
-	 *            ֵ
+	 *            键值
 	 * @param args
-	 *            
+	 *            参数
 	 */
 	public String getMessage(String key, Object[] args) {
 		String value = getMessage(key);
@@ -97,60 +97,60 @@ public class MessageManager {
 	}
 
 	/**
-	 * ԴаֵȡϢļָĲиʽ
+	 * 从资源束中按键值取消息文件串，并用指定的参数进行格式化
 	 *
 	 * @param key
-	 *            ֵ
+	 *            键值
 	 * @param args1
-	 *            һ
+	 *            第一个参数
 	 */
 	public String getMessage(String key, Object arg1) {
 		return getMessage(key, new Object[] { arg1 });
 	}
 
 	/**
-	 * ԴаֵȡϢļָĲиʽ
+	 * 从资源束中按键值取消息文件串，并用指定的参数进行格式化
 	 *
 	 * @param key
-	 *            ֵ
+	 *            键值
 	 * @param args1
-	 *            һ
+	 *            第一个参数
 	 * @param args2
-	 *            ڶ
+	 *            第二个参数
 	 */
 	public String getMessage(String key, Object arg1, Object arg2) {
 		return getMessage(key, new Object[] { arg1, arg2 });
 	}
 
 	/**
-	 * ԴаֵȡϢļָĲиʽ
+	 * 从资源束中按键值取消息文件串，并用指定的参数进行格式化
 	 *
 	 * @param key
-	 *            ֵ
+	 *            键值
 	 * @param args1
-	 *            һ
+	 *            第一个参数
 	 * @param args2
-	 *            ڶ
+	 *            第二个参数
 	 * @param args3
-	 *            
+	 *            第三个参数
 	 */
 	public String getMessage(String key, Object arg1, Object arg2, Object arg3) {
 		return getMessage(key, new Object[] { arg1, arg2, arg3 });
 	}
 
 	/**
-	 * ԴаֵȡϢļָĲиʽ
+	 * 从资源束中按键值取消息文件串，并用指定的参数进行格式化
 	 *
 	 * @param key
-	 *            ֵ
+	 *            键值
 	 * @param args1
-	 *            һ
+	 *            第一个参数
 	 * @param args2
-	 *            ڶ
+	 *            第二个参数
 	 * @param args3
-	 *            
+	 *            第三个参数
 	 * @param args4
-	 *            ĸ
+	 *            第四个参数
 	 */
 	public String getMessage(String key, Object arg1, Object arg2, Object arg3,
 			Object arg4) {
@@ -158,20 +158,20 @@ public class MessageManager {
 	}
 
 	/**
-	 * ԴаֵȡϢļָĲиʽ
+	 * 从资源束中按键值取消息文件串，并用指定的参数进行格式化
 	 *
 	 * @param key
-	 *            ֵ
+	 *            键值
 	 * @param args1
-	 *            һ
+	 *            第一个参数
 	 * @param args2
-	 *            ڶ
+	 *            第二个参数
 	 * @param args3
-	 *            
+	 *            第三个参数
 	 * @param args4
-	 *            ĸ
+	 *            第四个参数
 	 * @param args5
-	 *            
+	 *            第五个参数
 	 */
 	public String getMessage(String key, Object arg1, Object arg2, Object arg3,
 			Object arg4, Object arg5) {
@@ -179,22 +179,22 @@ public class MessageManager {
 	}
 
 	/**
-	 * ԴаֵȡϢļָĲиʽ
+	 * 从资源束中按键值取消息文件串，并用指定的参数进行格式化
 	 *
 	 * @param key
-	 *            ֵ
+	 *            键值
 	 * @param args1
-	 *            һ
+	 *            第一个参数
 	 * @param args2
-	 *            ڶ
+	 *            第二个参数
 	 * @param args3
-	 *            
+	 *            第三个参数
 	 * @param args4
-	 *            ĸ
+	 *            第四个参数
 	 * @param args5
-	 *            
+	 *            第五个参数
 	 * @param args6
-	 *            
+	 *            第六个参数
 	 */
 	public String getMessage(String key, Object arg1, Object arg2, Object arg3,
 			Object arg4, Object arg5, Object arg6) {
@@ -205,7 +205,7 @@ public class MessageManager {
 	private static Hashtable mgrs = new Hashtable();
 
 	/**
-	 * IDEмȨܻлԣʱӦѾɵManagerԴõлǰ
+	 * IDE中检查授权可能会切换语言，此时应该清空已经生成的Manager，否则语言资源还是用的切换前的
 	 * wunan 2020/7/9
 	 */
 	public synchronized static void clearManagers() {
@@ -213,10 +213,10 @@ public class MessageManager {
 	}
 
 	/**
-	 * ȡָļϢı
+	 * 取指定文件的消息文本管理器
 	 *
 	 * @param fileName
-	 *            ļ
+	 *            文件名
 	 */
 	public synchronized static MessageManager getManager(String fileName) {
 		MessageManager mgr = (MessageManager) mgrs.get(fileName);
@@ -228,22 +228,22 @@ public class MessageManager {
 	}
 
 	/**
-	 * ȡָԴϢı
+	 * 取指定资源束的消息文本管理器
 	 *
 	 * @param bundle
-	 *            Դ
+	 *            资源束
 	 */
 	public synchronized static MessageManager getManager(ResourceBundle bundle) {
 		return new MessageManager(bundle);
 	}
 
 	/**
-	 * ȡָָϢı
+	 * 取指定包指定区域的消息文本管理器
 	 *
 	 * @param fileName
-	 *            ļ
+	 *            文件名
 	 * @param loc
-	 *            
+	 *            区域
 	 */
 	public synchronized static MessageManager getManager(String fileName,
 			Locale loc) {
@@ -4,29 +4,29 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 
 /**
- * ODBC
+ * ODBC工具类
  *
  */
 public final class ODBCUtil {
 	/**
-	 * Դ
+	 * 数据源名称类型
 	 */
-	/** ûԴ */
+	/** 用户数据源名称 */
 	public final static int USER_DSN = 0x00000001;
-	/** ϵͳԴ */
+	/** 系统数据源名称 */
 	public final static int SYS_DSN = 0x00000002;
 
 	/**
-	 * ODBCע·
+	 * ODBC注册路径
 	 */
 	private final static String Rel_Reg_Path = "Software\\ODBC\\ODBC.INI\\ODBC Data Sources";
 
 	/**
-	 * Դб
+	 * 返回数据源名称列表
 	 * 
 	 * @param type
-	 *            ָȡûԴƻϵͳԴƣȫ(USER_DSN|SYS_DSN).
-	 * @return Դб
+	 *            指定取用户数据源名称还是系统数据源名称，或者全部(USER_DSN|SYS_DSN).
+	 * @return 数据源名称列表
 	 */
 	public static ArrayList<String> getDataSourcesName(int type) {
 		ArrayList<String> array = new ArrayList<String>();
@@ -56,12 +56,12 @@ public final class ODBCUtil {
 	}
 
 	/**
-	 * öhKeyµֵ
+	 * 枚举hKey下的值
 	 * 
 	 * @param hKey
-	 *            
+	 *            键
 	 * @param array
-	 *            
+	 *            容器
 	 */
 	private static void enumValue(int hKey, ArrayList<String> array) {
 		int i = 0;
@@ -76,7 +76,7 @@ public final class ODBCUtil {
 }
 
 /**
- * WindowsעṤ
+ * Windows注册工具
  *
  */
 final class WinRegisterUtil {
@@ -116,16 +116,16 @@ final class WinRegisterUtil {
 	public static final int ERROR_FAILED = -1;
 
 	/**
-	 * 󳤶
+	 * 键的最大长度
 	 */
 	private static final Integer MAX_KEY_LENGHT = new Integer(100);
 	/**
-	 * 
+	 * 类对象
 	 */
 	private static final Class theClass = getUtilClass();
 
 	/**
-	 * ȡ
+	 * 反射取工具类对象
 	 * 
 	 * @return
 	 */
@@ -138,14 +138,14 @@ final class WinRegisterUtil {
 	}
 
 	/**
-	 * ִWindowsRegOpenKey
+	 * 反射执行WindowsRegOpenKey
 	 * 
 	 * @param hKey
-	 *            ͷHKEY_CURRENT_USER
+	 *            跟键，列在类头，HKEY_CURRENT_USER
 	 * @param subKey
-	 *            hKey·磺"Software\\ODBC"
+	 *            相对hKey的路径，例如："Software\\ODBC"
 	 * @param securityMask
-	 *            дȨޣͷKEY_ALL_ACCESS
+	 *            读写权限，列在类头，KEY_ALL_ACCESS
 	 * @return
 	 */
 	public static int[] windowsRegOpenKeyEx(int hKey, String subKey,
@@ -165,10 +165,10 @@ final class WinRegisterUtil {
 	}
 
 	/**
-	 * رע
+	 * 关闭注册表
 	 * 
 	 * @param hKey
-	 *            
+	 *            键
 	 */
 	public static void windowsRegCloseKey(int hKey) {
 		try {
@@ -183,12 +183,12 @@ final class WinRegisterUtil {
 	}
 
 	/**
-	 * ִWindowsRegQueryValueEx
+	 * 反射执行WindowsRegQueryValueEx
 	 * 
 	 * @param hKey
-	 *            ľ
+	 *            父键的句柄
 	 * @param key
-	 *            Ӽַʱȡ
+	 *            子键的字符串，是中文时取不到
 	 * @return
 	 */
 	public static String windowsRegQueryValueEx(int hKey, String key) {
@@ -211,11 +211,11 @@ final class WinRegisterUtil {
 	}
 
 	/**
-	 * öhKeyµֵ
+	 * 枚举hKey下的值
 	 * 
 	 * @param hKey
 	 * @param valueIndex
-	 *            ֵţ0ʼ
+	 *            值序号，从0开始计数
 	 * @return
 	 */
 	public static String windowsRegEnumValue(int hKey, int valueIndex) {
@@ -235,7 +235,7 @@ final class WinRegisterUtil {
 	}
 
 	/**
-	 * ַתbyte
+	 * 字符串转byte数组
 	 * 
 	 * @param str
 	 * @return
@@ -250,7 +250,7 @@ final class WinRegisterUtil {
 	}
 
 	/**
-	 * byteתַ
+	 * byte数组转字符串
 	 * 
 	 * @param array
 	 * @return
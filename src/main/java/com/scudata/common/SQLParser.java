@@ -36,8 +36,8 @@ public final class SQLParser {
       "UPDATE", "SET", "WHERE"};
 
   /**
-   * 캯
-   * @param sql ҪSQL
+   * 构造函数
+   * @param sql 需要分析的SQL语句
    */
   public SQLParser(String sql) {
     this.sql = sql;
@@ -80,10 +80,10 @@ public final class SQLParser {
   }
 
   /**
-   * ȡSQLеӾ
-   * @param sql ҪSQL
-   * @param key ӾӦĹؼ
-   * @return ؼӾ
+   * 获取SQL中的子句
+   * @param sql 需要分析的SQL语句
+   * @param key 检索子句对应的关键字
+   * @return 返回检索到的子句
    */
   public static String getClause(String sql, int key) {
     switch (parseSQLType(sql)) {
@@ -100,9 +100,9 @@ public final class SQLParser {
   }
 
   /**
-   * ȡSQLеӾ
-   * @param key ӾӦĹؼ
-   * @return ؼӾ
+   * 获取SQL中的子句
+   * @param key 检索子句对应的关键字
+   * @return 返回检索到的子句
    */
   public String getClause(int key) {
     switch (type) {
@@ -128,7 +128,7 @@ public final class SQLParser {
       i++;
       if (i == keyValues.length)break;
     }
-    if (p > 0) { //ҵԼĹؼ
+    if (p > 0) { //找到自己或后面的关键字
       dst.append(sql.substring(0, p));
     }
     else if (p < 0) {
@@ -148,14 +148,14 @@ public final class SQLParser {
       dst.append(clause);
     }
     if (p < 0)return dst.toString();
-    if (i == key + 1) { //ҵԼ,Ҫһؼ
+    if (i == key + 1) { //若找到自己,则需要继续找下一个关键字
       int q = -1;
       while (q < 0 && i < keyValues.length) {
         q = Sentence.phraseAt(sql, keyValues[i], p, Sentence.IGNORE_CASE);
         if (q >= 0)break;
         i++;
       }
-      p = q; //p¼һؼλ
+      p = q; //p记录下一个关键字位置
     }
     if (p >= 0) {
       dst.append(' ');
@@ -165,11 +165,11 @@ public final class SQLParser {
   }
 
   /**
-   * ޸ָSQLָӾ
-   * @param sql ҪSQL
-   * @param key Ҫ޸ӾĹؼ
-   * @param clause 滻Ӿ
-   * @return ޸ĺSQL
+   * 修改指定SQL语句中指定的子句
+   * @param sql 需要分析的SQL语句
+   * @param key 需要修改子句的关键字
+   * @param clause 用于替换的子句
+   * @return 修改后的SQL语句
    */
   public static String modify(String sql, int key, String clause) {
     switch (parseSQLType(sql)) {
@@ -187,9 +187,9 @@ public final class SQLParser {
   }
 
   /**
-   * ޸ָӾ
-   * @param key Ҫ޸ӾĹؼ
-   * @param clause 滻Ӿ
+   * 修改指定的子句
+   * @param key 需要修改子句的关键字
+   * @param clause 用于替换的子句
    */
   public void modify(int key, String clause) {
     switch (type) {
@@ -243,10 +243,10 @@ public final class SQLParser {
   }
 
   /**
-   * ʽϲSQLеWHEREӾ
-   * @param sql ҪϲWHEREӾSQL
-   * @param where ҪWHERE
-   * @return ϲSQL
+   * 将条件表达式合并进SQL语句中的WHERE子句
+   * @param sql 需要合并WHERE子句的SQL语句
+   * @param where 要加入的WHERE条件
+   * @return 合并后的SQL语句
    */
   public static String mergeWhere(String sql, String where) {
     if (where == null || where.trim().length() == 0)return sql;
@@ -263,8 +263,8 @@ public final class SQLParser {
   }
 
   /**
-   * ʽϲSQLеWHEREӾ
-   * @param where ҪWHERE
+   * 将条件表达式合并进SQL语句中的WHERE子句
+   * @param where 要加入的WHERE条件
    */
   public void mergeWhere(String where) {
     if (where == null || where.trim().length() == 0)return;
@@ -283,16 +283,16 @@ public final class SQLParser {
   }
 
   /**
-   * صǰSQL
+   * 返回当前的SQL语句
    */
   public String toString() {
     return this.sql;
   }
 
   /**
-   * ָSQLDML(ݲ)
-   * @param sql SQL
-   * @return DML
+   * 分析指定SQL语句的DML(数据操纵)类型
+   * @param sql SQL语句
+   * @return 返回DML类型
    */
   public static int parseSQLType(String sql) {
     if (sql == null)return SQL_UNKNOWN;
@@ -317,19 +317,19 @@ public final class SQLParser {
   }
 
   /**
-   * DML(ݲ)
-   * @return DML
+   * 分析DML(数据操纵)类型
+   * @return 返回DML类型
    */
   public int parseSQLType() {
     return type;
   }
 
   /**
-   * SQLƥλ
-   * @param sql SQL䴮
-   * @param start ʼλ
-   * @param quote ַʹõַ(/˫)
-   * @param ɹƥλã򷵻-1
+   * 在SQL中搜索匹配的引号位置
+   * @param sql SQL语句串
+   * @param start 起始位置
+   * @param quote 字符串所使用的引号字符(单/双)
+   * @param 成功返回匹配的引号位置，否则返回-1
    */
   public static int scanQuotation(String sql, int start, char quote) {
     if (quote != sql.charAt(start))return -1;
@@ -232,7 +232,7 @@ public class SQLTool {
 //  		} else if(o instanceof java.net.URL) {
 //    		pst.setURL( index, (java.net.URL)o );
     }
-    //added by bd, 2016.6.8, oΪbyte[]ʱΪҪBlobֶ
+    //added by bd, 2016.6.8, 当o为byte[]类型时，认为需要处理Blob类型字段
     else if (o instanceof byte[]) {
     	InputStream is = new ByteArrayInputStream((byte[])o);
     	pst.setBinaryStream(index, is);
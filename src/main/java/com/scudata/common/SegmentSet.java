@@ -3,43 +3,43 @@ package com.scudata.common;
 import java.util.*;
 
 /**
-*     νμ"[key]=[value]"ʽļֵ,μָһָָĶ.ڶ,
-* ˫żԲڵķָ,ҼظҪע,мֵΪnullΪհַ
-* ɵĴΪմ,isCaseSensitiveΪfalseʱСдʽ.
-* @see java.util.Map μMap
+*     所谓段即是"[key]=[value]"形式的键值对,而段集则是指以一定分隔符分隔的多个段.在段中,
+* 单双引号及圆括号内的分隔符将被忽略,而且键不会重复。要注意,所有键与值若为null或者为空白字符
+* 组成的串则置为空串,并且在isCaseSensitive为false时键均以小写方式保存与操作.
+* @see java.util.Map 参见Map
 */
 public final class SegmentSet {
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public SegmentSet()  {
 		this(null, false, ';', true);
 	}
 
 	/**
-	 * 캯
-	 * @param str ڷֶεַ,ΪnullһյĶμ
+	 * 构造函数
+	 * @param str 用于分段的字符串,若为null则建立一个空的段集
 	 */
 	public SegmentSet(String str)  {
 		this(str, false, ';', true);
 	}
 
 	/**
-	 * 캯
-	 * @param str ڷֶεַ,ΪnullһյĶμ
-	 * @param delim ڷֶεַ
+	 * 构造函数
+	 * @param str 用于分段的字符串,若为null则建立一个空的段集
+	 * @param delim 用于分段的字符
 	 */
 	public SegmentSet(String str, char delim)  {
 		this(str, false, delim, true);
 	}
 
 	/**
-	 * 캯
-	 * @param keys keyֵ,delimָ
-	 * @param values valueֵ,delimָ,ҪkeyskeyӦ
-	 * @param delim ڷֶεַ
-	 * @param isCaseSensitive keyǷСд
+	 * 构造函数
+	 * @param keys 多个key值,以delim分隔
+	 * @param values 多个value值,以delim分隔,并要与keys中key相对应
+	 * @param delim 用于分段的字符
+	 * @param isCaseSensitive key是否大小写敏感
 	 */
 	public SegmentSet(String keys, String values, char delim)  {
 		this(keys, values, false, delim);
@@ -98,16 +98,16 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * μеж
+	 * 清除段集中的所有段
 	 */
 	public void clear()  {
 		segs.clear();
 	}
 
 	/**
-	 * ڶμǷָĶ
-	 * @param key ָļ
-	 * @return ҵ򷵻true,false
+	 * 在段集查找是否有指定键的段
+	 * @param key 指定的键
+	 * @return 找到则返回true,否则false
 	 */
 	public boolean containsKey(String key)  {
 		key = checkKey(key);
@@ -115,9 +115,9 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * ڶμвǷֵָĶ
-	 * @param key ֵָ
-	 * @return ҵtrue,false
+	 * 在段集中查找是否有指定值的段
+	 * @param key 指定的值
+	 * @return 找到返回true,否则false
 	 */
 	public boolean containsValue(String value)  {
 		value = checkValue(value);
@@ -125,16 +125,16 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * ȡмֵԵļ
+	 * 获取所有键值对的集合
 	 */
 	public Set entrySet()  {
 		return segs.entrySet();
 	}
 
 	/**
-	 * ȽһμǷ
-	 * @param obj ڱȽϵĶ
-	 * @return ȷtrue,false
+	 * 比较与另一个段集是否相等
+	 * @param obj 用于比较的对象
+	 * @return 相等返回true,否则false
 	 */
 	public boolean equals(Object obj)  {
 		if (obj == null)  return false;
@@ -142,9 +142,9 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * ȡָӦֵ
-	 * @param key ָļ
-	 * @return ضӦֵ
+	 * 取指定键对应的值
+	 * @param key 指定的键
+	 * @return 返回对应的值
 	 */
 	public String get(String key)  {
 		key = checkKey(key);
@@ -152,34 +152,34 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * ȡñHASH
-	 * @return HASH
+	 * 取得本对象的HASH码
+	 * @return 本对象的HASH码
 	 */
 	public int hashCode()  {
 		return segs.hashCode();
 	}
 
 	/**
-	 * Ƿмֵ
-	 * @return truefalse
+	 * 检查是否有键值对
+	 * @return true或false
 	 */
 	public boolean isEmpty()  {
 		return segs.isEmpty();
 	}
 
 	/**
-	 * ȡм
-	 * @return м
+	 * 取所有键
+	 * @return 所有键集
 	 */
 	public Set keySet()  {
 		return segs.keySet();
 	}
 
 	/**
-	 * һֵ
-	 * @param key 
-	 * @param value ֵ
-	 * @return μָļ,򷵻Ӧľֵ,򷵻null
+	 * 加入一个键值对
+	 * @param key 键
+	 * @param value 值
+	 * @return 若段集中已有指定的键,则返回它对应的旧值,否则返回null
 	 */
 	public String put(String key, String value)  {
 		key = checkKey(key);
@@ -188,7 +188,7 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * ֵ
+	 * 加入多个键值对
 	 */
 	public void putAll(Map t)  {
 		if ( t == null || t.isEmpty() )  return ;
@@ -201,9 +201,9 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * ɾָĶ
-	 * @param key ָļ
-	 * @return ָжӦֵ,򷵻Ӧֵ,򷵻null
+	 * 删除指定键的段
+	 * @param key 指定的键
+	 * @return 若指定键有对应的值,则返回其对应值,否则返回null
 	 */
 	public String remove(String key)  {
 		key = checkKey(key);
@@ -211,34 +211,34 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * ȡμжεĸ
-	 * @return μжεĸ
+	 * 取段集中段的个数
+	 * @return 段集中段的个数
 	 */
 	public int size()  {
 		return segs.size();
 	}
 
 	/**
-	 * ȡμֵļ
-	 * @return μֵļ
+	 * 取段集中所有值的集合
+	 * @return 段集中所有值的集合
 	 */
 	public Collection values()  {
 		return segs.values();
 	}
 
 	/**
-	 * ԷֺŷָļֵԵĴ
-	 * @return ԷֺŷָļֵԵĴ
+	 * 返回以分号分隔的键值对的串
+	 * @return 以分号分隔的键值对的串
 	 */
 	public String toString()  {
 		return toString(";");
 	}
 
 	/**
-	 * μǷָĶ
-	 * @param keys delimָĶ
-	 * @param delim ָ
-	 * @return 򷵻true,򷵻false
+	 * 检查段集中是否包含指定的多个键
+	 * @param keys 以delim分隔的多个键
+	 * @param delim 分隔符
+	 * @return 若都包含则返回true,否则返回false
 	 */
 	public boolean containsKeys(String keys, char delim)  {
 		ArgumentTokenizer at = new ArgumentTokenizer(keys, delim);
@@ -248,9 +248,9 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * μǷָм
-	 * @param keys 
-	 * @return keysΪnull򷵻true,򷵻true,򷵻false
+	 * 检查段集中是否包含指定键集中所有键
+	 * @param keys 键集
+	 * @return 若keys为null或空则返回true,若都包含则返回true,否则返回false
 	 */
 	public boolean containsKeys(Set keys)  {
 		if (keys == null || keys.isEmpty())  return true;
@@ -263,10 +263,10 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * delimָĶӦĶֵμ
-	 * @param keys delimָĶ
-	 * @param values delimָĶֵ
-	 * @param delim ָ
+	 * 将以delim分隔的多个键及相对应的多个值加入段集
+	 * @param keys 以delim分隔的多个键
+	 * @param values 以delim分隔的多个值
+	 * @param delim 分隔符
 	 */
 	public void putAll(String keys, String values, char delim)  {
 		ArgumentTokenizer atkey = new ArgumentTokenizer(keys, delim);
@@ -276,8 +276,8 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * һμеĶμμ
-	 * @param segs ҪĶμ
+	 * 将另一个段集中所有的段加入段集
+	 * @param segs 要加入的段集
 	 */
 	public void putAll(SegmentSet segs)  {
 		Iterator it = segs.keySet().iterator();
@@ -288,11 +288,11 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * ȡdelimָĶӦĶֵ
-	 * @param keys ָĶ
-	 * @param valueIfBlank ָļӦֵΪֵ,򽫷صĶӦֵΪ
-	 * @param delim ָ
-	 * @return delimָĶֵ,вΪnull,򷵻null
+	 * 取以delim分隔的多个键对应的多个值
+	 * @param keys 指定的多个键
+	 * @param valueIfBlank 若指定的键对应的值为空值,则将返回的对应值置为它
+	 * @param delim 分隔符
+	 * @return 返回以delim分隔的多个值,若有参数为null,则返回null
 	 */
 	public String getValues(String keys, String valueIfBlank, char delim)  {
 		if (keys == null || valueIfBlank == null)  return null;
@@ -312,10 +312,10 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * ȡdelimָмֵ,ڷSQLжӦWHEREӾ,μֵ,
-	 * ֱΪ"id1""01", "id2""1111",ʹtoString(" AND ")
+	 * 取以delim分隔的所有键值对,可用于返回SQL语句中对应的WHERE子句,如段集中有两个键值对,
+	 * 分别为"id1"与"01", "id2"与"1111",则可以使用toString(" AND ")返回
 	 * "id1=01 AND id2=1111"
-	 * @param delim ָ
+	 * @param delim 分隔串
 	 */
 	public String toString(String delim)  {
 		StringBuffer str = new StringBuffer(300);
@@ -332,8 +332,8 @@ public final class SegmentSet {
 	}
 
 	/**
-	 * μӳ
-	 * @return һӳ
+	 * 将段集翻译成映射表
+	 * @return 返回一个映射表
 	 */
 	public Map toMap()  {
 		return (Map)segs.clone();
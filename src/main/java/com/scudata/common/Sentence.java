@@ -2,36 +2,36 @@ package com.scudata.common;
 
 import java.io.*;
 /**
- * ʹתַʱעⲻʹõš˫šԲšźʹš ֧תַ\\Ųã
+ * 此类使用转义字符时请注意不能使用单引号、双引号、圆括号、中括号和大括号。 此类支持转义字符\，即\后的引号与括号不起作用，将被跳过
  */
 
 public final class Sentence {
 	/**
-	 * ʱԴСд
+	 * 搜索时忽略大小写
 	 */
 	public static final int IGNORE_CASE = 1;
 	/**
-	 * ʱԲ,Ҫɨ
+	 * 搜索时忽略圆括号,即要扫描括号中内容
 	 */
 	public static final int IGNORE_PARS = 2;
 	/**
-	 * ʱҵһƥ䴮
+	 * 搜索时仅仅查找第一个匹配串
 	 */
 	public static final int ONLY_FIRST = 4;
 	/**
-	 * ʱƥ䴮Ǳʶʱɹ
+	 * 搜索时仅仅在匹配串是标识符时成功
 	 */
 	public static final int ONLY_PHRASE = 8;
 	/**
-	 * ʱ,Ҫɨ
+	 * 搜索时忽略引号,即要扫描引号中内容
 	 */
 	public static final int IGNORE_QUOTE = 16;
 	/**
-	 * ָʾɾַпհַʱַд
+	 * 指示删除字符串中空白字符时将引号外的字符大写
 	 */
 	public static final int UPPER_WHEN_TRIM = 16;
 	/**
-	 * ָʾɾַпհַʱַСд
+	 * 指示删除字符串中空白字符时将引号外的字符小写
 	 */
 	public static final int LOWER_WHEN_TRIM = 32;
 
@@ -43,22 +43,22 @@ public final class Sentence {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param str
-	 *            Ҫо䷨ַ
+	 *            需要进行句法分析的字符串
 	 */
 	public Sentence(String str) {
 		this.str = str;
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param str
-	 *            Ҫо䷨ַ
+	 *            需要进行句法分析的字符串
 	 * @param escapeChar
-	 *            תַ
+	 *            转义字符
 	 */
 	public Sentence(String str, char escapeChar) {
 		this.str = str;
@@ -66,13 +66,13 @@ public final class Sentence {
 	}
 
 	/**
-	 * ʶ
+	 * 搜索标识符
 	 * 
 	 * @param str
-	 *            Ҫʶԭ
+	 *            需要搜索标识的原串
 	 * @param start
-	 *            ʼλ
-	 * @return رʶһַԭеλ
+	 *            搜索的起始位置
+	 * @return 返回标识符最后一个字符在原串中的位置
 	 */
 	public static int scanIdentifier(String str, int start) {
 		int len = str.length();
@@ -116,15 +116,15 @@ public final class Sentence {
 	}
 
 	/**
-	 * һƥ'"
+	 * 搜索下一个匹配的引号'或"
 	 * 
 	 * @param str
-	 *            Ҫŵԭ
+	 *            需要搜索引号的原串
 	 * @param start
-	 *            ʼλ,ͷһԭеλ
+	 *            起始位置,即头一引号在原串中的位置
 	 * @param escapeChar
-	 *            תַ
-	 * @return ҵ,򷵻ƥԭеλ,򷵻-1
+	 *            转义字符
+	 * @return 若找到,则返回匹配的引号在原串中的位置,否则返回-1
 	 */
 	public static int scanQuotation(String str, int start, char escapeChar) {
 		char quote = str.charAt(start);
@@ -148,28 +148,28 @@ public final class Sentence {
 	}
 
 	/**
-	 * һƥ'",ȱʡתַΪ\
+	 * 搜索下一个匹配的引号'或",缺省转义字符为\
 	 * 
 	 * @param str
-	 *            Ҫŵԭ
+	 *            需要搜索引号的原串
 	 * @param start
-	 *            ʼλ,ͷһԭеλ
-	 * @return ҵ,򷵻ƥԭеλ,򷵻-1
+	 *            起始位置,即头一引号在原串中的位置
+	 * @return 若找到,则返回匹配的引号在原串中的位置,否则返回-1
 	 */
 	public static int scanQuotation(String str, int start) {
 		return scanQuotation(str, start, '\\');
 	}
 
 	/**
-	 * һƥԲţڵԲű
+	 * 搜索下一个匹配的圆括号，但引号内的圆括号被跳过
 	 * 
 	 * @param str
-	 *            Ҫŵԭ
+	 *            需要搜索括号的原串
 	 * @param start
-	 *            ʼλ,Բ(ԭеλ
+	 *            起始位置,即左圆括号(在原串中的位置
 	 * @param escapeChar
-	 *            תַ
-	 * @return ҵ,򷵻ƥԲԭеλ,򷵻-1
+	 *            转义字符
+	 * @return 若找到,则返回匹配的右圆括号在原串中的位置,否则返回-1
 	 */
 	public static int scanParenthesis(String str, int start, char escapeChar) {
 		if (str.charAt(start) != '(')
@@ -219,28 +219,28 @@ public final class Sentence {
 	}
 
 	/**
-	 * һƥԲ,ȱʡתַΪ\ڵԲű
+	 * 搜索下一个匹配的圆括号,缺省转义字符为\，且引号内的圆括号被跳过
 	 * 
 	 * @param str
-	 *            Ҫŵԭ
+	 *            需要搜索括号的原串
 	 * @param start
-	 *            ʼλ,Բ(ԭеλ
-	 * @return ҵ,򷵻ƥԲԭеλ,򷵻-1
+	 *            起始位置,即左圆括号(在原串中的位置
+	 * @return 若找到,则返回匹配的右圆括号在原串中的位置,否则返回-1
 	 */
 	public static int scanParenthesis(String str, int start) {
 		return scanParenthesis(str, start, '\\');
 	}
 
 	/**
-	 * һƥţڵű
+	 * 搜索下一个匹配的中括号，但引号内的中括号被跳过
 	 * 
 	 * @param str
-	 *            Ҫŵԭ
+	 *            需要搜索括号的原串
 	 * @param start
-	 *            ʼλ,ԭеλ
+	 *            起始位置,即左中括号在原串中的位置
 	 * @param escapeChar
-	 *            תַ
-	 * @return ҵ,򷵻ƥԭеλ,򷵻-1
+	 *            转义字符
+	 * @return 若找到,则返回匹配的右中括号在原串中的位置,否则返回-1
 	 */
 	public static int scanBracket(String str, int start, char escapeChar) {
 		if (str.charAt(start) != '[')
@@ -278,28 +278,28 @@ public final class Sentence {
 	}
 
 	/**
-	 * һƥ,ȱʡתַΪ\ڵű
+	 * 搜索下一个匹配的中括号,缺省转义字符为\，且引号内的中括号被跳过
 	 * 
 	 * @param str
-	 *            Ҫŵԭ
+	 *            需要搜索括号的原串
 	 * @param start
-	 *            ʼλ,ԭеλ
-	 * @return ҵ,򷵻ƥԭеλ,򷵻-1
+	 *            起始位置,即左中括号在原串中的位置
+	 * @return 若找到,则返回匹配的右中括号在原串中的位置,否则返回-1
 	 */
 	public static int scanBracket(String str, int start) {
 		return scanBracket(str, start, '\\');
 	}
 
 	/**
-	 * һƥĻţڵĻű
+	 * 搜索下一个匹配的花括号，但引号内的花括号被跳过
 	 * 
 	 * @param str
-	 *            Ҫŵԭ
+	 *            需要搜索括号的原串
 	 * @param start
-	 *            ʼλ,ԭеλ
+	 *            起始位置,即左花括号在原串中的位置
 	 * @param escapeChar
-	 *            תַ
-	 * @return ҵ,򷵻ƥһԭеλ,򷵻-1
+	 *            转义字符
+	 * @return 若找到,则返回匹配的右花括号在原串中的位置,否则返回-1
 	 */
 	public static int scanBrace(String str, int start, char escapeChar) {
 		if (str.charAt(start) != '{')
@@ -337,29 +337,29 @@ public final class Sentence {
 	}
 
 	/**
-	 * һƥĻ,ȱʡתַΪ\ڵĻű
+	 * 搜索下一个匹配的花括号,缺省转义字符为\，且引号内的花括号被跳过
 	 * 
 	 * @param str
-	 *            Ҫŵԭ
+	 *            需要搜索括号的原串
 	 * @param start
-	 *            ʼλ,(ԭеλ
-	 * @return ҵ,򷵻ƥһԭеλ,򷵻-1
+	 *            起始位置,即左花括号(在原串中的位置
+	 * @return 若找到,则返回匹配的右花括号在原串中的位置,否则返回-1
 	 */
 	public static int scanBrace(String str, int start) {
 		return scanBrace(str, start, '\\');
 	}
 
 	/**
-	 * ԭеĿհַɾ,ifcaseԭеķַд,Сд򲻶
+	 * 将原串中的空白字符删除,并根据ifcase参数将原串中的非引号内字符大写,小写或不动
 	 * 
 	 * @param str
-	 *            Ҫɾհַԭ
+	 *            需要删除空白字符的原串
 	 * @param ifcase
-	 *            ʹ0, UPPER_WHEN_TRIM, LOWER_WHEN_TRIM,
+	 *            可以使用0, UPPER_WHEN_TRIM, LOWER_WHEN_TRIM,
 	 *            UPPER_WHEN_TRIM+LOWER_WHEN_TRIM
 	 * @param escapeChar
-	 *            תַ
-	 * @return ɾհַĴ
+	 *            转义字符
+	 * @return 删除空白字符后的串
 	 */
 	public static String trim(String str, int ifcase, char escapeChar) {
 		int idx = 0, len = str.length();
@@ -376,7 +376,7 @@ public final class Sentence {
 					dst.append(' ');
 				int i = scanQuotation(str, idx, escapeChar);
 				if (i < 0)
-					throw new RuntimeException("δҵλ" + idx + "Ӧ");
+					throw new RuntimeException("未找到位置" + idx + "处对应的引号");
 				i++;
 				for (int j = idx; j < i; j++)
 					dst.append(str.charAt(j));
@@ -413,33 +413,33 @@ public final class Sentence {
 	}
 
 	/**
-	 * ԭеĿհַɾ,ifcaseԭеķַд,Сд򲻶,ȱʡתַΪ\
+	 * 将原串中的空白字符删除,并根据ifcase参数将原串中的非引号内字符大写,小写或不动,缺省转义字符为\
 	 * 
 	 * @param str
-	 *            Ҫɾհַԭ
+	 *            需要删除空白字符的原串
 	 * @param ifcase
-	 *            Ϊ0, UPPER_WHEN_TRIM, LOWER_WHEN_TRIM,
+	 *            可以为0, UPPER_WHEN_TRIM, LOWER_WHEN_TRIM,
 	 *            UPPER_WHEN_TRIM+LOWER_WHEN_TRIM
-	 * @return ɾհַĴ
+	 * @return 删除空白字符后的串
 	 */
 	public static String trim(String str, int ifcase) {
 		return trim(str, ifcase, '\\');
 	}
 
 	/**
-	 * ԭ
+	 * 在原串中搜索短语，不搜索引号中内容
 	 * 
 	 * @param str
-	 *            Ҫԭ
+	 *            需要搜索短语的原串
 	 * @param phrase
-	 *            ҪĶ
+	 *            需要搜索的短语
 	 * @param start
-	 *            ԭеʼλ
+	 *            在原串中的起始位置
 	 * @param flag
-	 *            Ϊ0,IGNORE_CASE,IGNORE_PARS,IGNORE_CASE+IGNORE_PARS
+	 *            可以为0,IGNORE_CASE,IGNORE_PARS,IGNORE_CASE+IGNORE_PARS
 	 * @param escapeChar
-	 *            תַ
-	 * @return ҵ,򷵻ضԭеλ,򷵻-1
+	 *            转义字符
+	 * @return 若找到,则返回短语在原串中的位置,否则返回-1
 	 */
 	public static int phraseAt(String str, String phrase, int start, int flag,
 			char escapeChar) {
@@ -478,45 +478,45 @@ public final class Sentence {
 	}
 
 	/**
-	 * ԭ,ȱʡתַΪ\
+	 * 在原串中搜索短语,缺省转义字符为\
 	 * 
 	 * @param str
-	 *            Ҫԭ
+	 *            需要搜索短语的原串
 	 * @param phrase
-	 *            ҪĶ
+	 *            需要搜索的短语
 	 * @param start
-	 *            ԭеʼλ
+	 *            在原串中的起始位置
 	 * @param flag
-	 *            Ϊ0,IGNORE_CASE,IGNORE_PARSӷ
-	 * @return ҵ,򷵻ضԭеλ,򷵻-1
+	 *            可以为0,IGNORE_CASE,IGNORE_PARS及其加法组合
+	 * @return 若找到,则返回短语在原串中的位置,否则返回-1
 	 */
 	public static int phraseAt(String str, String phrase, int start, int flag) {
 		return phraseAt(str, phrase, start, flag, '\\');
 	}
 
 	/**
-	 * 滻ԭеӴ
+	 * 替换原串中的子串
 	 * 
 	 * @param str
-	 *            Ҫ滻ԭ
+	 *            需要替换的原串
 	 * @param start
-	 *            ԭʼ滻ʼλ
+	 *            对原串开始替换的起始位置
 	 * @param sold
-	 *            Ҫ滻Ӵ
+	 *            需要替换的子串
 	 * @param snew
-	 *            滻
+	 *            替换串
 	 * @param flag
-	 *            Ϊ0,IGNORE_CASE,IGNORE_PARS,IGNORE_QUOTE,ONLY_FIRST,
-	 *            ONLY_PHRASEӷ
+	 *            可为0,IGNORE_CASE,IGNORE_PARS,IGNORE_QUOTE,ONLY_FIRST,
+	 *            ONLY_PHRASE及其加法组合
 	 * @param escapeChar
-	 *            תַ
-	 * @return 滻Ĵ
+	 *            转义字符
+	 * @return 替换后的串
 	 */
 	public static String replace(String str, int start, String sold,
 			String snew, int flag, char escapeChar) {
 		int strlen = str.length(), len = sold.length();
 		StringBuffer dst = null;
-		char preChar = '*'; // ָʾƥ䴮ǰһַЧʶַ
+		char preChar = '*'; // 指示匹配串前一个字符不是有效标识符字符
 		int i = start;
 		while (i < strlen) {
 			char ch = str.charAt(i);
@@ -524,7 +524,7 @@ public final class Sentence {
 					&& (i == 0 || (i > 0 && str.charAt(i - 1) != escapeChar))) {
 				int idx = scanQuotation(str, i, escapeChar);
 				if (idx < 0)
-					throw new RuntimeException("δҵλ" + i + "Ӧ");
+					throw new RuntimeException("未找到位置" + i + "处对应的引号");
 				idx++;
 				if (dst != null)
 					for (int j = i; j < idx; j++)
@@ -536,7 +536,7 @@ public final class Sentence {
 			if (((flag & IGNORE_PARS) == 0) && (ch == '(')) {
 				int idx = scanParenthesis(str, i, escapeChar);
 				if (idx < 0)
-					throw new RuntimeException("δҵλ" + i + "ӦԲ");
+					throw new RuntimeException("未找到位置" + i + "处对应的圆括号");
 				idx++;
 				if (dst != null)
 					for (int j = i; j < idx; j++)
@@ -548,9 +548,9 @@ public final class Sentence {
 			boolean lb;
 			lb = sold.regionMatches((flag & IGNORE_CASE) > 0, 0, str, i, len);
 			if (lb && (flag & ONLY_PHRASE) > 0) {
-				// ƥ䴮ĵһַǰһַһǱʶַʱΪ
+				// 被匹配串的第一字符及前一字符有一个不是标识符字符时为真
 				lb = !isWordChar(sold.charAt(0)) || !isWordChar(preChar);
-				// ƥ䴮ַһַһǱʶַʱ
+				// 被匹配串的最后字符及后一字符有一个不是标识符字符时
 				if ((i + len) < strlen)
 					lb = lb
 							&& (!isWordChar(sold.charAt(len - 1)) || !isWordChar(str
@@ -582,19 +582,19 @@ public final class Sentence {
 	}
 
 	/**
-	 * 滻ԭеӴ,ȱʡתַΪ\
+	 * 替换原串中的子串,缺省转义字符为\
 	 * 
 	 * @param str
-	 *            Ҫ滻ԭ
+	 *            需要替换的原串
 	 * @param start
-	 *            ԭʼ滻ʼλ
+	 *            对原串开始替换的起始位置
 	 * @param sold
-	 *            Ҫ滻Ӵ
+	 *            需要替换的子串
 	 * @param snew
-	 *            滻
+	 *            替换串
 	 * @param flag
-	 *            Ϊ0,IGNORE_CASE,IGNORE_PARS,ONLY_FIRST,ONLY_PHRASEӷ
-	 * @return 滻Ĵ
+	 *            可为0,IGNORE_CASE,IGNORE_PARS,ONLY_FIRST,ONLY_PHRASE及其加法组合
+	 * @return 替换后的串
 	 */
 	public static String replace(String str, int start, String sold,
 			String snew, int flag) {
@@ -602,76 +602,76 @@ public final class Sentence {
 	}
 
 	/**
-	 * 滻ԭеӴ,ȱʡתַΪ\
+	 * 替换原串中的子串,缺省转义字符为\
 	 * 
 	 * @param str
-	 *            Ҫ滻ԭ
+	 *            需要替换的原串
 	 * @param sold
-	 *            Ҫ滻Ӵ
+	 *            需要替换的子串
 	 * @param snew
-	 *            滻
+	 *            替换串
 	 * @param flag
-	 *            Ϊ0,IGNORE_CASE,IGNORE_PARS,ONLY_FIRST,ONLY_PHRASEӷ
-	 * @return 滻Ĵ
+	 *            可为0,IGNORE_CASE,IGNORE_PARS,ONLY_FIRST,ONLY_PHRASE及其加法组合
+	 * @return 替换后的串
 	 */
 	public static String replace(String str, String sold, String snew, int flag) {
 		return replace(str, 0, sold, snew, flag, '\\');
 	}
 
 	/**
-	 * һƥ'"
+	 * 搜索下一个匹配的引号'或"
 	 * 
 	 * @param start
-	 *            ʼλ,ͷһԭеλ
-	 * @return һƥԭеλ
+	 *            起始位置,即头一引号在原串中的位置
+	 * @return 下一个匹配的引号在原串中的位置
 	 */
 	public int scanQuotation(int start) {
 		return scanQuotation(this.str, start, escapeChar);
 	}
 
 	/**
-	 * ԭеĿհַɾ,ifcaseԭеķַд,Сд򲻶 getSentence()صĴΪ
+	 * 将原串中的空白字符删除,并根据ifcase参数将原串中的非引号内字符大写,小写或不动， 将getSentence()返回的串更改为结果串
 	 * 
 	 * @param ifcase
-	 *            Ϊ0, UPPER_WHEN_TRIM, LOWER_WHEN_TRIMӷ
-	 * @return ɾհַĴ
+	 *            可以为0, UPPER_WHEN_TRIM, LOWER_WHEN_TRIM及其加法组合
+	 * @return 删除空白字符后的串
 	 */
 	public void trim(int ifcase) {
 		this.str = trim(this.str, ifcase, escapeChar);
 	}
 
 	/**
-	 * ԭ
+	 * 在原串中搜索短语
 	 * 
 	 * @param phrase
-	 *            ҪĶ
+	 *            需要搜索的短语
 	 * @param start
-	 *            ԭеʼλ
+	 *            在原串中的起始位置
 	 * @param flag
-	 *            Ϊ0,IGNORE_CASE,IGNORE_PARS,IGNORE_CASE+IGNORE_PARS
-	 * @return ԭеλ
+	 *            可以为0,IGNORE_CASE,IGNORE_PARS,IGNORE_CASE+IGNORE_PARS
+	 * @return 短语在原串中的位置
 	 */
 	public int phraseAt(String phrase, int start, int flag) {
 		return phraseAt(this.str, phrase, start, flag, escapeChar);
 	}
 
 	/**
-	 * 滻ԭеӴgetSentence()صַΪ
+	 * 替换原串中的子串，并将getSentence()返回的字符串更改为结果串
 	 * 
 	 * @param start
-	 *            ԭʼ滻ʼλ
+	 *            对原串开始替换的起始位置
 	 * @param sold
-	 *            Ҫ滻Ӵ
+	 *            需要替换的子串
 	 * @param snew
-	 *            滻
+	 *            替换串
 	 * @param flag
-	 *            Ϊ0,IGNORE_CASE,IGNORE_PARS,ONLY_FIRST,ONLY_PHRASEӷ
-	 * @return 滻Ӵĸ
+	 *            可为0,IGNORE_CASE,IGNORE_PARS,ONLY_FIRST,ONLY_PHRASE及其加法组合
+	 * @return 被替换子串的个数
 	 */
 	public int replace(int start, String sold, String snew, int flag) {
 		int strlen = str.length(), len = sold.length(), count = 0;
 		StringBuffer dst = null;
-		char preChar = '*'; // ָʾƥ䴮ǰһַЧʶַ
+		char preChar = '*'; // 指示匹配串前一个字符不是有效标识符字符
 		int i = start;
 		while (i < strlen) {
 			char ch = str.charAt(i);
@@ -704,9 +704,9 @@ public final class Sentence {
 			boolean lb;
 			lb = sold.regionMatches((flag & IGNORE_CASE) > 0, 0, str, i, len);
 			if (lb && (flag & ONLY_PHRASE) > 0) {
-				// ƥ䴮ĵһַǰһַһǱʶַʱΪ
+				// 被匹配串的第一字符及前一字符有一个不是标识符字符时为真
 				lb = !isWordChar(sold.charAt(0)) || !isWordChar(preChar);
-				// ƥ䴮ַһַһǱʶַʱ
+				// 被匹配串的最后字符及后一字符有一个不是标识符字符时
 				if ((i + len) < strlen)
 					lb = lb
 							&& (!isWordChar(sold.charAt(len - 1)) || !isWordChar(str
@@ -739,33 +739,33 @@ public final class Sentence {
 	}
 
 	/**
-	 * ȡĴ
+	 * 取分析后的串
 	 * 
-	 * @return Ĵ
+	 * @return 分析后的串
 	 */
 	public String toString() {
 		return this.str;
 	}
 
 	/**
-	 * ȡĴ
+	 * 取分析后的串
 	 * 
-	 * @return Ĵ
+	 * @return 分析后的串
 	 */
 	public String getSentence() {
 		return this.str;
 	}
 
 	/**
-	 * ԭַ(Աж)
+	 * 在原串中搜索字符串(可以被包含中短语中)
 	 * 
 	 * @param phrase
-	 *            Ҫַ
+	 *            需要搜索的字符串
 	 * @param start
-	 *            ԭеʼλ
+	 *            在原串中的起始位置
 	 * @param flag
-	 *            Ϊ0,IGNORE_CASE,IGNORE_PARS,IGNORE_CASE+IGNORE_PARS
-	 * @return ַԭеλ
+	 *            可以为0,IGNORE_CASE,IGNORE_PARS,IGNORE_CASE+IGNORE_PARS
+	 * @return 字符串在原串中的位置
 	 */
 	public static int indexOf(String str, String find, int start, int flag,
 			char escapeChar) {
@@ -773,7 +773,7 @@ public final class Sentence {
 		for (int i = start; i < slen;) {
 			char ch = str.charAt(i);
 			if ((flag & IGNORE_QUOTE) == 0
-					&& // xq add,֧ 2010.8.25
+					&& // xq add,加上支持引号内搜索 2010.8.25
 					(ch == '\"' || ch == '\'')
 					&& ((i > 0 && str.charAt(i - 1) != '\\') || i == 0)) {
 				i = scanQuotation(str, i, escapeChar);
@@ -806,15 +806,15 @@ public final class Sentence {
 	}
 
 	/**
-	 * רãΪ֧ONLY_PHRASEwunan ԭַ(Աж)
+	 * 集算器查找专用，为了支持ONLY_PHRASE（wunan） 在原串中搜索字符串(可以被包含中短语中)
 	 * 
 	 * @param phrase
-	 *            Ҫַ
+	 *            需要搜索的字符串
 	 * @param start
-	 *            ԭеʼλ
+	 *            在原串中的起始位置
 	 * @param flag
-	 *            Ϊ0,IGNORE_CASE,IGNORE_PARS,IGNORE_CASE+IGNORE_PARS
-	 * @return ַԭеλ
+	 *            可以为0,IGNORE_CASE,IGNORE_PARS,IGNORE_CASE+IGNORE_PARS
+	 * @return 字符串在原串中的位置
 	 */
 	public static int indexOf(String str, int start, String find, int flag) {
 		char escapeChar = '\\';
@@ -823,7 +823,7 @@ public final class Sentence {
 		for (int i = start; i < slen;) {
 			char ch = str.charAt(i);
 			if ((flag & IGNORE_QUOTE) == 0
-					&& // ֧ 2018.10.9 wunan
+					&& // 加上支持引号内搜索 2018.10.9 wunan
 					(ch == '\"' || ch == '\'')
 					&& ((i > 0 && str.charAt(i - 1) != '\\') || i == 0)) {
 				i = scanQuotation(str, i, escapeChar);
@@ -852,10 +852,10 @@ public final class Sentence {
 			}
 			if (find.regionMatches((flag & IGNORE_CASE) > 0, 0, str, i, plen)) {
 				if ((flag & ONLY_PHRASE) > 0) {
-					// ƥ䴮ĵһַǰһַһǱʶַʱΪ
+					// 被匹配串的第一字符及前一字符有一个不是标识符字符时为真
 					boolean lb = !isWordChar(find.charAt(0))
 							|| !isWordChar(preChar);
-					// ƥ䴮ַһַһǱʶַʱ
+					// 被匹配串的最后字符及后一字符有一个不是标识符字符时
 					if ((i + plen) < slen)
 						lb = lb
 								&& (!isWordChar(find.charAt(plen - 1)) || !isWordChar(str
@@ -879,7 +879,7 @@ public final class Sentence {
 				|| Character.isJavaIdentifierPart(ch);
 	}
 	
-	//һ\r\nλãδҵس
+	//查找下一个\r或\n的位置，未找到返回长度
 	private static int scanCRLF(String str, int start) {
 		int len = str.length();
 		while(start<len){
@@ -891,7 +891,7 @@ public final class Sentence {
 		return len;
 	}
 	
-	//*/λãδҵس
+	//查找*/的位置，未找到返回长度
 	private static int scanCommentEnd(String str, int start) {
 		int len = str.length();
 		while(start<len) {
@@ -904,7 +904,7 @@ public final class Sentence {
 	}
 	
 	/**
-	 * ɾjavaעͺͶע 
+	 * 删除串中java风格的行注释和段落注释 
 	 */
 	public static String removeComment(String str){
 		int idx=0, len=str.length();
@@ -927,7 +927,7 @@ public final class Sentence {
 				}
 				char ch2 = str.charAt(idx+1);
 				if(ch2=='/') {
-					idx = scanCRLF(str, idx+2);  //λòӣس
+					idx = scanCRLF(str, idx+2);  //位置不加，后续回车换行需输出
 				}else if(ch2=='*'){
 					idx = scanCommentEnd(str, idx+2)+2;
 				}else{
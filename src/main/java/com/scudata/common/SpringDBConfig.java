@@ -3,25 +3,25 @@ package com.scudata.common;
 import java.io.Serializable;
 
 /**
- * SpringԴ
+ * Spring数据源配置
  *
  */
 public class SpringDBConfig extends DBInfo implements Cloneable, Serializable {
 
-	private String id; // datasourceid
+	private String id; // datasource的id
 
 	/**
-	 * ʼ
-	 * @param dbType	ݿ
+	 * 初始化
+	 * @param dbType	数据库类型
 	 */
 	public SpringDBConfig(int dbType) {
 		super(dbType);
 	}
 
 	/**
-	 * ʼ
-	 * @param dbType	ݿ
-	 * @param id	Springdatasourceid
+	 * 初始化
+	 * @param dbType	数据库类型
+	 * @param id	Spring的datasource的id
 	 */
 	public SpringDBConfig(int dbType, String id) {
 		super(dbType);
@@ -29,7 +29,7 @@ public class SpringDBConfig extends DBInfo implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ȡID
+	 * 取ID
 	 * @return the id
 	 */
 	public String getId() {
@@ -37,7 +37,7 @@ public class SpringDBConfig extends DBInfo implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ID
+	 * 设置ID
 	 * @param id the id to set
 	 */
 	public void setId(String id) {
@@ -45,7 +45,7 @@ public class SpringDBConfig extends DBInfo implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ӹ
+	 * 创建连接工厂
 	 */
 	public ISessionFactory createSessionFactory() throws Exception {
 		return SpringDBSessionFactory.create(id, dbType);
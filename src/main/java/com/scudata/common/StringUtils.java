@@ -8,7 +8,7 @@ import java.util.Vector;
 
 
 /**
- * ַ
+ * 字符串工具类
  * @author RunQian
  *
  */
@@ -32,18 +32,18 @@ public class StringUtils {
 	}
 
 	/**
-	 * תΪExcelбǩ
-	 * @param index int,Ҫת,1ʼ,1ΪA
-	 * @return String,תбǩ,עExcelǩ26,26ƵZӦΪBA;ExcelǩZΪAA
+	 * 将数字转换为Excel的列标签
+	 * @param index int,要转换的数字,从1开始,即1列为A
+	 * @return String,转换后的列标签,注意Excel标签不是26进制,26进制的Z后应该为BA;但Excel标签Z后为AA
 	 */
 	public static String toExcelLabel(int index) {
 		return toExcel(index - 1);
 	}
 
 	/**
-	 * ַǷǿհ׷
-	 * @param s ַ
-	 * @return trueǣfalse
+	 * 返回字符串是否是空白符
+	 * @param s 字符串
+	 * @return true：是，false：不是
 	 */
 	public final static boolean isSpaceString(String s) {
 		if (s == null) {
@@ -61,9 +61,9 @@ public class StringUtils {
 	}
 
 	/**
-	 * һеָֽת16ƴ
-	 * @param l 
-	 * @param byteNum еĵֽ(ֽڸ)
+	 * 将一个长整数中的指定字节数转化成16进制串
+	 * @param l 长整数
+	 * @param byteNum 长整数中的低字节数(即从右往左的字节个数)
 	 * @return String
 	 */
 	public final static String toHexString(long l, int byteNum) {
@@ -73,10 +73,10 @@ public class StringUtils {
 	}
 
 	/**
-	 * һеָֽת16ƴӵַ
-	 * @param sb ַ
-	 * @param l 
-	 * @param byteNum еĵֽ(ֽڸ)
+	 * 将一个长整数中的指定字节数转化成16进制串，并增加到字符串缓冲区中
+	 * @param sb 字符串缓冲区
+	 * @param l 长整数
+	 * @param byteNum 长整数中的低字节数(即从右往左的字节个数)
 	 */
 	public final static void appendHexString(StringBuffer sb, long l,
 			int byteNum) {
@@ -87,12 +87,12 @@ public class StringUtils {
 	}
 
 	/**
-	 * ַunicodeַתΪ&#92;uxxxxʽ'\\','\t','\n','\r','\f'
-	 * specialCharsκַǰ\
-	 * @param s Ҫַ
-	 * @param sb ׷ӴĻ
-	 * @param specialChars Ҫǰ\رַ
-	 * @return sb!=null򷵻sb򷵻׷˴StringBuffer
+	 * 将字符串中unicode字符转换为&#92;uxxxx形式，并对'\\','\t','\n','\r','\f'进行
+	 * 处理，还对specialChars中任何字符加前导\
+	 * @param s 需要处理的字符串
+	 * @param sb 追加处理结果的缓冲区
+	 * @param specialChars 需要加前导\的特别字符串
+	 * @return 若sb!=null则返回sb，否则返回追加了处理结果的新StringBuffer
 	 */
 	public final static StringBuffer deunicode(String s, StringBuffer sb,
 			String specialChars) {
@@ -141,21 +141,21 @@ public class StringUtils {
 	}
 
 	/**
-	 * ַunicodeַתΪ&#92;uxxxxʽ'\\','\t','\n','\r','\f'
-	 * specialCharsκַǰ\
-	 * @param s Ҫַ
-	 * @param sb ׷ӴĻ
-	 * @return sb!=null򷵻sb򷵻׷˴StringBuffer
+	 * 将字符串中unicode字符转换为&#92;uxxxx形式，并对'\\','\t','\n','\r','\f'进行
+	 * 处理，还对specialChars中任何字符加前导\
+	 * @param s 需要处理的字符串
+	 * @param sb 追加处理结果的缓冲区
+	 * @return 若sb!=null则返回sb，否则返回追加了处理结果的新StringBuffer
 	 */
 	public final static StringBuffer deunicode(String s, StringBuffer sb) {
 		return deunicode(s, sb, null);
 	}
 
 	/**
-	 * ַunicodeַתΪ&#92;uxxxxʽ'\\','\t','\n','\r','\f'
-	 * specialCharsκַǰ\
-	 * @param s Ҫַ
-	 * @param specialChars Ҫǰ\رַ
+	 * 将字符串中unicode字符转换为&#92;uxxxx形式，并对'\\','\t','\n','\r','\f'进行
+	 * 处理，还对specialChars中任何字符加前导\
+	 * @param s 需要处理的字符串
+	 * @param specialChars 需要加前导\的特别字符串
 	 * @return String
 	 */
 	public final static String deunicode(String s, String specialChars) {
@@ -163,9 +163,9 @@ public class StringUtils {
 	}
 
 	/**
-	 * ַunicodeַתΪ&#92;uxxxxʽ'\\','\t','\n','\r','\f'
-	 * specialCharsκַǰ\
-	 * @param s Ҫַ
+	 * 将字符串中unicode字符转换为&#92;uxxxx形式，并对'\\','\t','\n','\r','\f'进行
+	 * 处理，还对specialChars中任何字符加前导\
+	 * @param s 需要处理的字符串
 	 * @return String
 	 */
 	public final static String deunicode(String s) {
@@ -173,11 +173,11 @@ public class StringUtils {
 	}
 
 	/**
-	 * Զкγɵıм
-	 * @param text ı
+	 * 获得自动换行后所形成的文本行集合
+	 * @param text 文本
 	 * @param fm FontMetrics
-	 * @param w 
-	 * @return ַб
+	 * @param w 宽度
+	 * @return 字符串列表
 	 */
 	public static ArrayList<String> wrapString(String text, FontMetrics fm,
 			float w) {
@@ -211,23 +211,23 @@ public class StringUtils {
 		return al;
 	}
 
-	// sβУɺеַ
+	// 处理s的尾字折行，返回折行完成后首行的字符数
 	private static int cutLine(String s, char c) {
-		// edited by bd, 2018.4.4, ĻйȽϾˣжΪ"һ"ӢַϣÿǷβ
-		// ǰгlen֪ǾͲȥ㣬㵱ǰʱַ
+		// edited by bd, 2018.4.4, 这里的换行规则比较旧了，对于判定为"一个单词"的连续英文字符数字组合，不用考虑是否避尾
+		// 如果当前折行长度len已知，那就不去计算，否则计算当前折行时首行字符数
 		int len = s.length() - 1;
 
-		// βַc֪ǾͲȥ㣬βַ
+		// 如果尾字符c已知，那就不用去计算，否则计算尾字符
 		if (c == 0) {
 			c = s.charAt(len);
 
-			// ҪַcǰʱҪcǷǱַ
-			// edited by bdl, 2011.5.17, ַҲӢַʱʵС㣩
+			// 在需要在字符c前断行时，首先要考虑c是否是避首字符
+			// edited by bdl, 2011.5.17, 当避首字符也是英文字符时（其实就是小数点）
 		}
 		boolean canBeHead = canBeHead(c);
 		boolean isEnglishChar = isEnglishChar(c);
 		if (!canBeHead && isEnglishChar) {
-			// ӢַҪΪһʹͬУҪжǷȫΪӢַ
+			// 由于连续的英文字符需要视为一个单词共同换行，所以需要判断是否本行全部为连续英文字符
 			int seek = len - 1;
 			int loc = 0;
 			boolean hasHead = canBeHead(c);
@@ -238,14 +238,14 @@ public class StringUtils {
 					letterbreak = true;
 					if (!hasHead) {
 						if (canBeHead(seekChar)) {
-							// гַǱַų֣ô趨Ϊtrue
+							// 如果本行中出现非避首字符（排除首字），那么设定有首字为true
 							hasHead = true;
 						}
 						seek--;
 					} else {
-						// гַӢַôжϸַǷǱβַ
+						// 如果本行中出现非英文字符，那么判断该字符是否是避尾字符
 						if (canBeFoot(seekChar)) {
-							// ǷǱβַôַм
+							// 如果是非避尾字符，那么从这个字符后折行即可
 							loc = seek + 1;
 						} else {
 							if (canBeHead(seekChar)) {
@@ -257,7 +257,7 @@ public class StringUtils {
 						}
 					}
 				} else if (letterbreak) {
-					// ֱβַ֮ҵӢַôӸӢַϿͺ
+					// 如果出现避尾字符之后，又找到英文字符，那么从该英文字符后断开就好
 					loc = seek + 1;
 				} else {
 					if (canBeHead(seekChar)) {
@@ -269,62 +269,62 @@ public class StringUtils {
 				}
 			}
 			if (loc > 0) {
-				// зӢַ
+				// 如果本行中有非英文字符
 				return loc;
 			} else {
-				// ȫӢַıβַôз
+				// 如果本行中全都是英文字符或者是连续的避尾字符，那么正常切分
 				return len;
 			}
 		} else if (!canBeHead) {
-			// cǱַ
+			// c是避首字符
 			int seek = len - 1;
 			int loc = 0;
 			boolean hasHead = false;
-			// ҵһǱַ
+			// 找到第一个非避首字符
 			while (seek >= 0 && loc == 0) {
 				char seekChar = s.charAt(seek);
 				if (!hasHead) {
 					if (canBeHead(seekChar)) {
-						// гַǱַų֣ô趨Ϊtrue
+						// 如果本行中出现非避首字符（排除首字），那么设定有首字为true
 						hasHead = true;
 					}
 					seek--;
 				} else {
 					if (isEnglishChar(seekChar)) {
-						// ӢַǰѯһӢַΪֹ
+						// 对于英数字符，向前查询到第一个非连续英数字符为止
 						int eseek = seek;
 						boolean eng = true;
 						while (eng && seek > 0) {
 							seek--;
 							eng = isEnglishChar(s.charAt(seek));
 						}
-						// added by bdl, 2011.8.12, ӵǰֱַһӢַ
-						// ôһӢַǰ
+						// added by bdl, 2011.8.12, 如果从当前字符直到第一个都是连续的英文字符，
+						// 那么从最后一个英数字符前断行
 						if (seek == 0) {
 							loc = eseek + 1;
 						}
 					}
-					// Ѿ֣ôжǷҪβ
+					// 如果已经有首字，那么判断是否要避尾
 					else if (canBeFoot(seekChar)) {
-						// βôڸַм
+						// 如果不避尾，那么在该字符后断行即可
 						loc = seek + 1;
 					} else {
-						// Ҫβ
+						// 需要避尾
 						seek--;
 					}
 				}
 			}
 			if (loc > 0) {
-				// п
+				// 如果本行中可正常断行
 				return loc;
 			} else {
-				// ȫǱ׻ıβַôз
+				// 如果本行中全都是避首或者是连续的避尾字符，那么正常切分
 				return len;
 			}
 		}
-		// ȻжcǷӢַ
+		// 然后再判断c是否是英文字符
 		else if (isEnglishChar) {
-			// ӢַҪΪһʹͬУҪжǷȫΪӢַ
+			// 由于连续的英文字符需要视为一个单词共同换行，所以需要判断是否本行全部为连续英文字符
 			int seek = len - 1;
 			int loc = 0;
 			boolean hasHead = canBeHead(c);
@@ -332,7 +332,7 @@ public class StringUtils {
 			while (seek >= 0 && loc == 0) {
 				char seekChar = s.charAt(seek);
 				if (!isEnglishChar(seekChar)) {
-					// edited by bdl, 20111.5.17, ʱжϵǰַǷ
+					// edited by bdl, 20111.5.17, 折行时首先判断当前首字符是否避首
 					letterbreak = true;
 					if (!hasHead) {
 						if (canBeHead(seekChar)) {
@@ -340,9 +340,9 @@ public class StringUtils {
 						}
 						seek--;
 					}
-					// гַӢַôжϸַǷǱβַ
+					// 如果本行中出现非英文字符，那么判断该字符是否是避尾字符
 					else if (canBeFoot(seekChar)) {
-						// ǷǱβַôַм
+						// 如果是非避尾字符，那么从这个字符后折行即可
 						loc = seek + 1;
 					} else {
 						if (canBeHead(seekChar)) {
@@ -353,11 +353,11 @@ public class StringUtils {
 						seek--;
 					}
 				} else if (letterbreak) {
-					// edited by bdl, 20111.5.17, ֹӢĵıַ
-					// ֱβַ֮ҵӢַôӸӢַϿͺ
+					// edited by bdl, 20111.5.17, 如果出现过非英文的避首字符
+					// 如果出现避尾字符之后，又找到英文字符，那么从该英文字符后断开就好
 					loc = seek + 1;
 				} else {
-					// edited by bdl, 20111.5.17, Ӣгֱַ
+					// edited by bdl, 20111.5.17, 如果英文中出现避首字符
 					if (canBeHead(seekChar)) {
 						hasHead = true;
 					} else {
@@ -367,19 +367,19 @@ public class StringUtils {
 				}
 			}
 			if (loc > 0) {
-				// зӢַ
+				// 如果本行中有非英文字符
 				return loc;
 			} else {
-				// ȫӢַıβַôз
+				// 如果本行中全都是英文字符或者是连续的避尾字符，那么正常切分
 				return len;
 			}
 		}
 		return seekCanBeFoot(s.substring(0, len), len);
 	}
 
-	// added by bdl, 2008.5.21ַsһڱĩַĺϿضϿַ
+	// added by bdl, 2008.5.21，将字符串s从最后面一个可置于本行行末的字符的后面断开，返回断开后本行字符数
 	private static int seekCanBeFoot(String s, int len) {
-		// ǰгlen֪ǾͲȥ㣬㵱ǰʱַ
+		// 如果当前折行长度len已知，那就不去计算，否则计算当前折行时首行字符数
 		if (len == -1) {
 			len = s.length();
 		}
@@ -400,38 +400,38 @@ public class StringUtils {
 		if (loc > 0) {
 			return loc;
 		}
-		// sַǱβַôб
+		// 如果s中所有字符都是避尾字符，那么整行保留
 		return len;
 	}
 
-	// added by bdl, 2008.5.21жĳַͨǷΪβ
+	// added by bdl, 2008.5.21，判断某字符通常情况下是否能作为行尾
 	private static boolean canBeFoot(char c) {
-		// еʱӦÿǵıβַ
-		String cannotFoot = "([{ۣ꣤";
+		// 断行的时候，应该考虑的避尾字符
+		String cannotFoot = "([{·‘“〈《「『【〔〖（．［｛￡￥";
 		return cannotFoot.indexOf(c) < 0;
 	}
 
-	// added by bdl, 2008.5.21жĳַͨǷΪ
+	// added by bdl, 2008.5.21，判断某字符通常情况下是否能作为行首
 	private static boolean canBeHead(char c) {
-		// еʱӦÿǵıַ
-		String cannotHead = "!),.:;?]}Dáݣ";
+		// 断行的时候，应该考虑的避首字符
+		String cannotHead = "!),.:;?]}¨·ˇˉ―‖’”…∶、。〃々〉》」』】〕〗！＂＇），．：；？］｀｜｝～￠";
 		return cannotHead.indexOf(c) < 0;
 	}
 
 	private static boolean isEnglishChar(char c) {
 		// return ( (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') ||
 		// (c >= '0' && c <= '9'));
-		// edited by bd, 2018.4.4, һĸֹɵ""УwordӢķŵ
-		// жϷһոַȲӢĵʽ
+		// edited by bd, 2018.4.4, 在一串字母数字构成的"超单词"中，word中是允许包含英文符号的
+		// 这里的判断仿照这一规则处理，遇到空格、中文字符等才算做英文单词结束
 		return (c <= '~' && c > ' ');
 	}
 
 	/**
-	 * &#92;uxxxxתΪunicodeַ'\\','\t','\n','\r','\f'д
+	 * 将&#92;uxxxx转换为unicode字符，并对'\\','\t','\n','\r','\f'进行处理
 	 *
-	 * @params s Ҫַ
-	 * @params sb ׷ӴĻ
-	 * @return sb!=null򷵻sb򷵻׷˴StringBuffer
+	 * @params s 需要处理的字符串
+	 * @params sb 追加处理结果的缓冲区
+	 * @return 若sb!=null则返回sb，否则返回追加了处理结果的新StringBuffer
 	 */
 	public final static StringBuffer unicode(String s, StringBuffer sb) {
 		int len = s.length();
@@ -482,7 +482,7 @@ public class StringUtils {
 						value = (value << 4) + 10 + ch - 'A';
 						break;
 					default:
-						throw new IllegalArgumentException("Ϸ\\uxxxx");
+						throw new IllegalArgumentException("不合法的\\uxxxx编码");
 					} // switch(ch)
 				} // for(int j)
 				sb.append((char) value);
@@ -567,13 +567,13 @@ public class StringUtils {
 		return outBuffer.toString();
 	}
 
-	final static char[] c1Digit = { '', 'Ҽ', '', '', '', '', '½', '',
-			'', '' };
-	final static char[] c2Digit = { '', 'һ', '', '', '', '', '', '',
-			'', '' };
-	final static char[] c1Unit = { 'ʰ', '', 'Ǫ' };
-	final static char[] c2Unit = { 'ʮ', '', 'ǧ' };
-	final static String[] chinaUnit = { "", "", "" };
+	final static char[] c1Digit = { '零', '壹', '贰', '叁', '肆', '伍', '陆', '柒',
+			'捌', '玖' };
+	final static char[] c2Digit = { '零', '一', '二', '三', '四', '五', '六', '七',
+			'八', '九' };
+	final static char[] c1Unit = { '拾', '佰', '仟' };
+	final static char[] c2Unit = { '十', '百', '千' };
+	final static String[] chinaUnit = { "万", "亿", "亿万" };
 
 	private final static StringBuffer toRMB2(long l, char[] cDigit, char[] cUnit) {
 		int unit = 0, bit = 0, d;
@@ -582,7 +582,7 @@ public class StringUtils {
 		while (l > 0) {
 			if (bit == 4) {
 				if (unit > 2) {
-					throw new IllegalArgumentException("дִ֧һڵ");
+					throw new IllegalArgumentException("大写不支持大于一万万亿的数");
 				}
 
 				if (sf) {
@@ -615,7 +615,7 @@ public class StringUtils {
 				}
 				sb.append(cDigit[d]);
 			} else {
-				if (sf) { // β0
+				if (sf) { // 数据尾部的0忽略
 					hasZero = true;
 				}
 			}
@@ -627,13 +627,13 @@ public class StringUtils {
 	}
 
 	/**
-	 * ʽҴдʽ
+	 * 将浮点数格式成人民币大写方式
 	 *
 	 * @param money
-	 *            
-	 * @return ʽַ
+	 *            浮点数
+	 * @return 格式化的字符串
 	 * @exception IllegalArgumentException
-	 *                money<0money>=һʱ
+	 *                当money<0或money>=一万万亿时
 	 */
 	public final static String toRMB(double money) {
 		return toRMB(money, true, true);
@@ -645,33 +645,33 @@ public class StringUtils {
 		char[] cUnit = uppercase ? c1Unit : c2Unit;
 		StringBuffer sb = new StringBuffer(64);
 		if (money < 0) {
-			sb.append("");
+			sb.append("负");
 			money = -money;
 		}
-		long yuan = (long) money; // Ԫ
+		long yuan = (long) money; // 元
 
 		if (yuan == 0) {
-			sb.append("");
+			sb.append("零");
 		} else {
 			sb.append(toRMB2(yuan, cDigit, cUnit));
 		}
-		sb.append('Ԫ');
+		sb.append('元');
 
 		int jaoFeng = (int) ((money + 0.001 - (long) money) * 100) % 100;
 		int jao = jaoFeng / 10;
 		int feng = jaoFeng % 10;
 		if (jao > 0) {
 			sb.append(cDigit[jao]);
-			sb.append('');
+			sb.append('角');
 		}
 		if (feng > 0) {
 			if (jao == 0) {
-				sb.append('');
+				sb.append('零');
 			}
 			sb.append(cDigit[feng]);
-			sb.append('');
+			sb.append('分');
 		} else {
-			sb.append('');
+			sb.append('整');
 		}
 		return sb.toString();
 	}
@@ -680,9 +680,9 @@ public class StringUtils {
 			boolean uppercase) {
 		String fu = "";
 		if (l == 0) {
-			return "";
+			return "零";
 		} else if (l < 0) {
-			fu = "";
+			fu = "负";
 			l = -l;
 		}
 		char[] cDigit = uppercase ? c1Digit : c2Digit;
@@ -701,17 +701,17 @@ public class StringUtils {
 	}
 
 	/**
-	 * ִСдĸʽƥ
-	 * @param src Դ
-	 * @param pos1 Դʼλ
-	 * @param fmt ʽ
-	 * @param pos2 ʽʼλ
-	 * @return trueƥ䣬falseƥ
+	 * 区分大小写的格式匹配
+	 * @param src 源串
+	 * @param pos1 源串起始位置
+	 * @param fmt 格式串
+	 * @param pos2 格式串起始位置
+	 * @return true：匹配，false：不匹配
 	 */
 	private final static boolean matches(String src, int pos1, String fmt,
 			int pos2) {
 		int len1 = src.length(), len2 = fmt.length();
-		boolean any = false; // ǷǺ
+		boolean any = false; // 是否有星号
 
 		while (pos2 < len2) {
 			char ch = fmt.charAt(pos2);
@@ -719,14 +719,14 @@ public class StringUtils {
 				pos2++;
 				any = true;
 			} else if (ch == '?') {
-				// ԴҪһַ?ƥ
+				// 源串需要有任意一个字符与?匹配
 				if (++pos1 > len1) {
 					return false;
 				}
 
 				pos2++;
 			} else if (any) {
-				// \* ʾλҪַ'*'ͨ*
+				// \* 表示此位置需要字符'*'，而不是通配符*
 				if (ch == '\\' && pos2 + 1 < len2) {
 					char c = fmt.charAt(pos2 + 1);
 					if (c == '*' || c == '?') {
@@ -736,9 +736,9 @@ public class StringUtils {
 				}
 
 				while (pos1 < len1) {
-					// ҵ׸ƥַ
+					// 找到首个匹配的字符
 					if (src.charAt(pos1++) == ch) {
-						// жʣµĴǷƥ䣬ƥԴһַʽƥ
+						// 判断剩下的串是否匹配，如果不匹配跳过源串一个字符与格式串重新匹配
 						if (matches(src, pos1, fmt, pos2 + 1)) {
 							return true;
 						}
@@ -747,7 +747,7 @@ public class StringUtils {
 
 				return false;
 			} else {
-				// \* ʾλҪַ'*'ͨ*
+				// \* 表示此位置需要字符'*'，而不是通配符*
 				if (ch == '\\' && pos2 + 1 < len2) {
 					char c = fmt.charAt(pos2 + 1);
 					if (c == '*' || c == '?') {
@@ -756,7 +756,7 @@ public class StringUtils {
 					}
 				}
 
-				// ԴǰַҪʽǰַƥ
+				// 源串当前字符需要与格式串当前字符匹配
 				if (pos1 == len1 || src.charAt(pos1++) != ch) {
 					return false;
 				}
@@ -774,7 +774,7 @@ public class StringUtils {
 
 						pos2++;
 					} else {
-						// \* ʾλҪַ'*'ͨ*
+						// \* 表示此位置需要字符'*'，而不是通配符*
 						if (ch == '\\' && pos2 + 1 < len2) {
 							char c = fmt.charAt(pos2 + 1);
 							if (c == '*' || c == '?') {
@@ -797,17 +797,17 @@ public class StringUtils {
 	}
 
 	/**
-	 * ִСдĸʽƥ
-	 * @param src Դ
-	 * @param pos1 Դʼλ
-	 * @param fmt ʽ
-	 * @param pos2 ʽʼλ
-	 * @return trueƥ䣬falseƥ
+	 * 不区分大小写的格式匹配
+	 * @param src 源串
+	 * @param pos1 源串起始位置
+	 * @param fmt 格式串
+	 * @param pos2 格式串起始位置
+	 * @return true：匹配，false：不匹配
 	 */
 	private final static boolean matchesIgnoreCase(String src, int pos1,
 			String fmt, int pos2) {
 		int len1 = src.length(), len2 = fmt.length();
-		boolean any = false; // ǷǺ
+		boolean any = false; // 是否有星号
 
 		while (pos2 < len2) {
 			char ch = fmt.charAt(pos2);
@@ -815,14 +815,14 @@ public class StringUtils {
 				pos2++;
 				any = true;
 			} else if (ch == '?') {
-				// ԴҪһַ?ƥ
+				// 源串需要有任意一个字符与?匹配
 				if (++pos1 > len1) {
 					return false;
 				}
 
 				pos2++;
 			} else if (any) {
-				// \* ʾλҪַ'*'ͨ*
+				// \* 表示此位置需要字符'*'，而不是通配符*
 				if (ch == '\\' && pos2 + 1 < len2) {
 					char c = fmt.charAt(pos2 + 1);
 					if (c == '*' || c == '?') {
@@ -832,10 +832,10 @@ public class StringUtils {
 				}
 
 				while (pos1 < len1) {
-					// ҵ׸ƥַ
+					// 找到首个匹配的字符
 					if (Character.toUpperCase(src.charAt(pos1++)) == Character
 							.toUpperCase(ch)) {
-						// жʣµĴǷƥ䣬ƥԴһַʽƥ
+						// 判断剩下的串是否匹配，如果不匹配跳过源串一个字符与格式串重新匹配
 						if (matchesIgnoreCase(src, pos1, fmt, pos2 + 1)) {
 							return true;
 						}
@@ -844,7 +844,7 @@ public class StringUtils {
 
 				return false;
 			} else {
-				// \* ʾλҪַ'*'ͨ*
+				// \* 表示此位置需要字符'*'，而不是通配符*
 				if (ch == '\\' && pos2 + 1 < len2) {
 					char c = fmt.charAt(pos2 + 1);
 					if (c == '*' || c == '?') {
@@ -853,7 +853,7 @@ public class StringUtils {
 					}
 				}
 
-				// ԴǰַҪʽǰַƥ
+				// 源串当前字符需要与格式串当前字符匹配
 				if (pos1 == len1
 						|| Character.toUpperCase(src.charAt(pos1++)) != Character
 								.toUpperCase(ch)) {
@@ -873,7 +873,7 @@ public class StringUtils {
 
 						pos2++;
 					} else {
-						// \* ʾλҪַ'*'ͨ*
+						// \* 表示此位置需要字符'*'，而不是通配符*
 						if (ch == '\\' && pos2 + 1 < len2) {
 							char c = fmt.charAt(pos2 + 1);
 							if (c == '*' || c == '?') {
@@ -898,11 +898,11 @@ public class StringUtils {
 	}
 
 	/**
-	 * жַǷָĸʽ
-	 * @param value  ַ
-	 * @param fmt ʽ(*ʾ0ַ?ʾַ)
-	 * @param ignoreCase trueԴСдfalseСд
-	 * @return valuefmtΪnullʱfalseƥʱҲfalse򷵻true
+	 * 判断字符串是否具有指定的格式
+	 * @param value  字符串
+	 * @param fmt 格式串(*表示0个或多个字符，?表示单个字符)
+	 * @param ignoreCase true：忽略大小写，false：大小写敏感
+	 * @return 若value或fmt为null时返回false，若不匹配时也返回false，否则返回true
 	 */
 	public final static boolean matches(String value, String fmt,
 			boolean ignoreCase) {
@@ -920,7 +920,7 @@ public class StringUtils {
 	private static boolean like(String src, int pos1, String fmt, int pos2) {
 		int len1 = src.length();
 		int len2 = fmt.length();
-		boolean any = false; // ǷǺ
+		boolean any = false; // 是否有星号
 		
 		while (pos2 < len2) {
 			char ch = fmt.charAt(pos2);
@@ -928,14 +928,14 @@ public class StringUtils {
 				pos2++;
 				any = true;
 			} else if (ch == '_') {
-				// ԴҪһַ?ƥ
+				// 源串需要有任意一个字符与?匹配
 				if (++pos1 > len1) {
 					return false;
 				}
 
 				pos2++;
 			} else if (any) {
-				// \% ʾλҪַ'%'ͨ%
+				// \% 表示此位置需要字符'%'，而不是通配符%
 				if (ch == '\\' && pos2 + 1 < len2) {
 					char c = fmt.charAt(pos2 + 1);
 					if (c == '%' || c == '_') {
@@ -945,9 +945,9 @@ public class StringUtils {
 				}
 
 				while (pos1 < len1) {
-					// ҵ׸ƥַ
+					// 找到首个匹配的字符
 					if (src.charAt(pos1++) == ch) {
-						// жʣµĴǷƥ䣬ƥԴһַʽƥ
+						// 判断剩下的串是否匹配，如果不匹配跳过源串一个字符与格式串重新匹配
 						if (like(src, pos1, fmt, pos2 + 1)) {
 							return true;
 						}
@@ -956,7 +956,7 @@ public class StringUtils {
 
 				return false;
 			} else {
-				// \% ʾλҪַ'%'ͨ%
+				// \% 表示此位置需要字符'%'，而不是通配符%
 				if (ch == '\\' && pos2 + 1 < len2) {
 					char c = fmt.charAt(pos2 + 1);
 					if (c == '%' || c == '_') {
@@ -965,7 +965,7 @@ public class StringUtils {
 					}
 				}
 
-				// ԴǰַҪʽǰַƥ
+				// 源串当前字符需要与格式串当前字符匹配
 				if (pos1 == len1 || src.charAt(pos1++) != ch) {
 					return false;
 				}
@@ -983,7 +983,7 @@ public class StringUtils {
 
 						pos2++;
 					} else {
-						// \% ʾλҪַ'%'ͨ%
+						// \% 表示此位置需要字符'%'，而不是通配符%
 						if (ch == '\\' && pos2 + 1 < len2) {
 							char c = fmt.charAt(pos2 + 1);
 							if (c == '%' || c == '_') {
@@ -1006,10 +1006,10 @@ public class StringUtils {
 	}
 	
 	/**
-	 * SQLͨƥ
-	 * @param src ҪƥĴ
-	 * @param fmt ͨSQL׼%:0ַ_һַ
-	 * @return trueƥ䣬falseƥ
+	 * 采用SQL通配符做相似匹配
+	 * @param src 要匹配的串
+	 * @param fmt 通配符，SQL标准。%:替代0个或多个字符，_：仅替代一个字符
+	 * @return true：匹配，false：不匹配
 	 */
 	public static boolean like(String src, String fmt) {
 		if (src == null ) {
@@ -1020,14 +1020,14 @@ public class StringUtils {
 	}
 	
 	private final static String[] provinces = { null, null, null, null, null,
-			null, null, null, null, null, null, "", "", "ӱ", "ɽ", "ɹ",
-			null, null, null, null, null, "", "", "", null, null, null,
-			null, null, null, null, "Ϻ", "", "㽭", "΢", "", "", "ɽ",
-			null, null, null, "", "", "", "㶫", "", "", null, null,
-			null, "", "Ĵ", "", "", "", null, null, null, null, null,
-			null, "", "", "ຣ", "", "½", null, null, null, null, null,
-			"̨", null, null, null, null, null, null, null, null, null, "",
-			"", null, null, null, null, null, null, null, null, "" };
+			null, null, null, null, null, null, "北京", "天津", "河北", "山西", "内蒙古",
+			null, null, null, null, null, "辽宁", "吉林", "黑龙江", null, null, null,
+			null, null, null, null, "上海", "江苏", "浙江", "安微", "福建", "江西", "山东",
+			null, null, null, "河南", "湖北", "湖南", "广东", "广西", "海南", null, null,
+			null, "重庆", "四川", "贵州", "云南", "西藏", null, null, null, null, null,
+			null, "陕西", "甘肃", "青海", "宁夏", "新疆", null, null, null, null, null,
+			"台湾", null, null, null, null, null, null, null, null, null, "香港",
+			"澳门", null, null, null, null, null, null, null, null, "国外" };
 
 	private final static int[] wi = { 7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10,
 			5, 8, 4, 2, 1 };
@@ -1035,7 +1035,7 @@ public class StringUtils {
 			'5', '4', '3', '2' };
 
 	/**
-	 * GB11643-1999<<ݺ>>GB11643-1989<<ᱣϺ>>涨֤ǷϹ淶
+	 * 根据GB11643-1999<<公民身份号码>>及GB11643-1989<<社会保障号码>>规定检查身份证号是否符合规范
 	 */
 	public final static boolean identify(String ident) {
 		if (ident == null) {
@@ -1054,13 +1054,13 @@ public class StringUtils {
 			}
 		}
 
-		// 黧ص GB/T2260
+		// 检查户口所在县的行政区代码 GB/T2260
 		int p = (ident.charAt(0) - '0') * 10 + (ident.charAt(1) - '0');
 		if (p >= provinces.length || provinces[p] == null) {
 			return false;
 		}
 
-		//  GB/T7408
+		// 检查出生年月日 GB/T7408
 		int year = 0, month = 0, day = 0;
 		if (len == 15) {
 			year = 1900 + (ident.charAt(6) - '0') * 10
@@ -1076,7 +1076,7 @@ public class StringUtils {
 		}
 		if (month == 2) {
 			if ((year % 4 == 0) && ((year % 100 != 0) || (year % 400 == 0))) {
-				// 229
+				// 闰年2月29日
 				if (day > 29) {
 					return false;
 				}
@@ -1097,7 +1097,7 @@ public class StringUtils {
 			return false;
 		}
 
-		// У
+		// 检查校验码
 		if (len == 18) {
 			int[] w = wi;
 			int mod = 0;
@@ -1163,11 +1163,11 @@ public class StringUtils {
 	}
 
 	/**
-	 * ǷЧĿɼַ
+	 * 是否有效的可见字符串
 	 *
 	 * @param str
-	 *            ObjectҪжϵַ
-	 * @return booleanЧtrue򷵻false
+	 *            Object，要判断的字符串对象
+	 * @return boolean，有效返回true，否则返回false
 	 */
 	public static boolean isValidString(Object str) {
 		if (!(str instanceof String)) {
@@ -1177,8 +1177,8 @@ public class StringUtils {
 	}
 
 	/**
-	 * жstrǷһϱ༭淶ıʽֻҪԵţšЩԺ󣬲ɱıʽԻ
-	 * û淶顣   123)  ༭淶ϷǼǷ
+	 * 判断str是否一个符合编辑规范的表达式，只检查了需要配对的引号，括号。这些配对后，不会造成保存的表达式串出现配对混乱
+	 * 暂且没有做计算规范检查。 比如  123)  编辑规范合法，但是计算非法。
 	 * @param str
 	 * @return
 	 */
@@ -1229,7 +1229,7 @@ public class StringUtils {
 	}
 
 	/**
-	 * ҳcomparekeysеλ
+	 * 找出compare在keys中的位置
 	 *
 	 * @param keys
 	 *            String[]
@@ -1247,39 +1247,39 @@ public class StringUtils {
 	}
 
 	/**
-	 * ŷֿÿһԪӵVector,մΪnull
+	 * 将逗号分开的每一个元素添加到Vector,空串设置为null对象
 	 *
 	 * @param str
-	 *            String,Ҫתַ
-	 * @return Vector,ӦVector,VectorSizeΪ0,ö󲻿Ϊnull
+	 *            String,要转换的字符串
+	 * @return Vector,返回相应的Vector,Vector可能Size为0,但该对象不可能为null
 	 */
 	public static Vector string2Vector(String str) {
 		return string2Vector(str, ',', false);
 	}
 
 	/**
-	 * delimֿÿһԪӵVector,մΪnull
+	 * 将delim分开的每一个元素添加到Vector,空串设置为null对象
 	 *
 	 * @param str
-	 *            String,Ҫתַ
+	 *            String,要转换的字符串
 	 * @param delim
-	 *            char,ָ
-	 * @return Vector,ӦVector,VectorSizeΪ0,ö󲻿Ϊnull
+	 *            char,分割符号
+	 * @return Vector,返回相应的Vector,Vector可能Size为0,但该对象不可能为null
 	 */
 	public static Vector string2Vector(String str, char delim) {
 		return string2Vector(str, delim, false);
 	}
 
 	/**
-	 * delimֿÿһԪӵVector,մΪnull
+	 * 将delim分开的每一个元素添加到Vector,空串设置为null对象
 	 *
 	 * @param str
-	 *            String,Ҫתַ
+	 *            String,要转换的字符串
 	 * @param delim
-	 *            char,ָ
+	 *            char,分割符号
 	 * @param removeEsc
-	 *            boolean,Ƿ滻ÿһڵת
-	 * @return Vector,ӦVector,VectorSizeΪ0,ö󲻿Ϊnull
+	 *            boolean,是否替换每一节的转意
+	 * @return Vector,返回相应的Vector,Vector可能Size为0,但该对象不可能为null
 	 */
 	public static Vector string2Vector(String str, char delim, boolean removeEsc) {
 		Vector v = new Vector();
@@ -1302,13 +1302,13 @@ public class StringUtils {
 	}
 
 	/**
-	 * бתΪַ
+	 * 将对象列表转为字符串数组
 	 *
 	 * @param list List
 	 * @return String[]
 	 */
-	// õutilĿ¼,ûע͵,wunan
-	// ütoString
+	// 引用到util目录,没有人引用先注释掉,wunan
+	// 改用简单toString
 	public static String[] toStringArray(ArrayList list) {
 		int c = list.size();
 		if (c == 0)
@@ -1324,8 +1324,8 @@ public class StringUtils {
 	}
 
 	/**
-	 * 鵱ǰǷָhostsΧ
-	 * @param hostsָʱӢĶŷֿhostsΪʱ飬ֱӷtrue
+	 * 检查当前机器是否在指定的hosts范围
+	 * @param hosts，指定多个机器名时，用英文逗号分开。hosts为空时，不检查，直接返回true
 	 * @return
 	 */
 	public static boolean checkHosts(String hosts) {
@@ -1354,23 +1354,23 @@ public class StringUtils {
 	}
 
 	/**
-	 * ֺŵıŴ󣬱ͼõˮӡʱҲҪŴӦ
+	 * 针对字号的比例放大，背景图用到水印文字时，也需要放大相应字体
 	 * @param fontSize
 	 * @param scale
 	 * @return
 	 */
 	public static int getScaledFontSize(int fontSize, float scale) {
 		int size = fontSize;
-		// Ŵֻȡ֣ɲֽӽCeilingһЩֺŻƫСԼ0.3Ժȡ
+		// 由于字体放大后，只取整数部分，会造成部分接近Ceiling的一些字号会偏小，所以加上0.3以后，再取整
 		return (int) (size * scale + 0.3f);
 	}
 
 	/**
-	 * ӴλãԴСд
-	 * @param source Դ
-	 * @param target ĿӴ
-	 * @param fromIndex Դʼλ
-	 * @return λãҲ-1
+	 * 查找子串的位置，忽略大小写
+	 * @param source 源串
+	 * @param target 目标子串
+	 * @param fromIndex 源串的起始查找位置
+	 * @return 位置，找不到返回-1
 	 */
 	public static int indexOfIgnoreCase(String source, String target,
 			int fromIndex) {
@@ -1418,10 +1418,10 @@ public class StringUtils {
 	}
 
 	/**
-	 *   ǰ׺preһַ֪ΧexistsNamesڵΨһ
-	 * @param pre ǰ׺
-	 * @param existsNames ַ֪Χ
-	 * @return ֪ΧΨһ
+	 *   用名字前缀pre产生一个在已知名字范围existsNames内的唯一新名字
+	 * @param pre 名字前缀
+	 * @param existsNames 已知的名字范围
+	 * @return 已知范围内唯一的新名字
 	 */
 	public static String getNewName(String pre,String[] existsNames) {
 		ArrayList<String> names = new ArrayList<String>();
@@ -1434,9 +1434,9 @@ public class StringUtils {
 		return getNewName( pre, names);
 	}
 	/**
-	 * ǰ׺preеnamesһµĲظ
-	 * @param pre ǰ׺
-	 * @param names еб
+	 * 用前缀pre，根据已有的names，产生一个新的不重复的名字
+	 * @param pre 前缀
+	 * @param names 已有的名称列表
 	 * @return
 	 */
 	public static String getNewName(String pre, ArrayList<String> names) {
@@ -1460,7 +1460,7 @@ public class StringUtils {
 		return matches(value, pos1, len1, fmt, 0);
 	}
 	
-	//fastģʽ\
+	//fast模式，不处理？和\
 	public final static boolean matches_fast(byte[] value, int pos1, int len1, byte[] fmt) {
 		if (value == null || fmt == null) {
 			return false;
@@ -1470,7 +1470,7 @@ public class StringUtils {
 	
 	private final static boolean matches_fast(byte[] src, int pos1, int len1, byte[] fmt, int pos2) {
 		int len2 = fmt.length;
-		boolean any = false; // ǷǺ
+		boolean any = false; // 是否有星号
 
 		while (pos2 < len2) {
 			byte ch = fmt[pos2];
@@ -1478,12 +1478,12 @@ public class StringUtils {
 				pos2++;
 				any = true;
 			} else if (any) {
-				// \* ʾλҪַ'*'ͨ*
+				// \* 表示此位置需要字符'*'，而不是通配符*
 
 				while (pos1 < len1) {
-					// ҵ׸ƥַ
+					// 找到首个匹配的字符
 					if (src[pos1++] == ch) {
-						// жʣµĴǷƥ䣬ƥԴһַʽƥ
+						// 判断剩下的串是否匹配，如果不匹配跳过源串一个字符与格式串重新匹配
 						if (matches_fast(src, pos1, len1, fmt, pos2 + 1)) {
 							return true;
 						}
@@ -1493,7 +1493,7 @@ public class StringUtils {
 				return false;
 			} else {
 
-				// ԴǰַҪʽǰַƥ
+				// 源串当前字符需要与格式串当前字符匹配
 				if (pos1 == len1 || src[pos1++] != ch) {
 					return false;
 				}
@@ -1521,7 +1521,7 @@ public class StringUtils {
 	
 	private final static boolean matches(byte[] src, int pos1, int len1, byte[] fmt, int pos2) {
 		int len2 = fmt.length;
-		boolean any = false; // ǷǺ
+		boolean any = false; // 是否有星号
 
 		while (pos2 < len2) {
 			byte ch = fmt[pos2];
@@ -1529,14 +1529,14 @@ public class StringUtils {
 				pos2++;
 				any = true;
 			} else if (ch == '?') {
-				// ԴҪһַ?ƥ
+				// 源串需要有任意一个字符与?匹配
 				if (++pos1 > len1) {
 					return false;
 				}
 
 				pos2++;
 			} else if (any) {
-				// \* ʾλҪַ'*'ͨ*
+				// \* 表示此位置需要字符'*'，而不是通配符*
 				if (ch == '\\' && pos2 + 1 < len2) {
 					byte c = fmt[pos2 + 1];
 					if (c == '*' || c == '?') {
@@ -1546,9 +1546,9 @@ public class StringUtils {
 				}
 
 				while (pos1 < len1) {
-					// ҵ׸ƥַ
+					// 找到首个匹配的字符
 					if (src[pos1++] == ch) {
-						// жʣµĴǷƥ䣬ƥԴһַʽƥ
+						// 判断剩下的串是否匹配，如果不匹配跳过源串一个字符与格式串重新匹配
 						if (matches(src, pos1, len1, fmt, pos2 + 1)) {
 							return true;
 						}
@@ -1557,7 +1557,7 @@ public class StringUtils {
 
 				return false;
 			} else {
-				// \* ʾλҪַ'*'ͨ*
+				// \* 表示此位置需要字符'*'，而不是通配符*
 				if (ch == '\\' && pos2 + 1 < len2) {
 					byte c = fmt[pos2 + 1];
 					if (c == '*' || c == '?') {
@@ -1566,7 +1566,7 @@ public class StringUtils {
 					}
 				}
 
-				// ԴǰַҪʽǰַƥ
+				// 源串当前字符需要与格式串当前字符匹配
 				if (pos1 == len1 || src[pos1++] != ch) {
 					return false;
 				}
@@ -1584,7 +1584,7 @@ public class StringUtils {
 
 						pos2++;
 					} else {
-						// \* ʾλҪַ'*'ͨ*
+						// \* 表示此位置需要字符'*'，而不是通配符*
 						if (ch == '\\' && pos2 + 1 < len2) {
 							byte c = fmt[pos2 + 1];
 							if (c == '*' || c == '?') {
@@ -33,21 +33,21 @@ public class Types {
 
 	public final static byte DT_CURSOR = (byte) 101;
 	public final static byte DT_AUTOINCREMENT = (byte) 102;
-	public final static byte DT_SERIALBYTES = (byte) 103; // ź
+	public final static byte DT_SERIALBYTES = (byte) 103; // 排号
 
-//ºڹʻʱȷ
+//以下函数在国际化时不正确
 	
-	//ɰgetProperData
+	//与旧版getProperData兼容
 	public static Object getProperData(byte type, String val) throws Exception {
 		return getProperData(type, val, false);
 	}
 	
 	/**
-	 * ַתΪӦObject
-	 *@param type 
-	 *@param val ֵַ
-	 *@param ignoreString Ƿַκδ
-	 *@return ָ
+	 * 将字符串按照类型转为相应Object
+	 *@param type 数据类型
+	 *@param val 字符串型数据值
+	 *@param ignoreString 是否对字符串不做任何处理即返回
+	 *@return 返回指定类型数据
 	 */
 	public static Object getProperData(byte type, String val, boolean ignoreString) throws Exception {
 		if (val == null) {
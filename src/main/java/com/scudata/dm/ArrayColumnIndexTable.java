@@ -0,0 +1,223 @@
+package com.scudata.dm;
+
+import com.scudata.array.BoolArray;
+import com.scudata.array.IArray;
+import com.scudata.common.MessageManager;
+import com.scudata.common.RQException;
+import com.scudata.dw.compress.ArrayColumnList;
+import com.scudata.resources.EngineMessage;
+import com.scudata.util.HashUtil;
+import com.scudata.util.Variant;
+
+/**
+ * 列存内表的哈希索引，直接用键列的数组建立，查找时按列比较，不需要产生记录
+ * 用数组实现链表，每个哈希位置记第一个行号，每行记同一哈希位置的下一个行号
+ * @author RunQian
+ *
+ */
+public class ArrayColumnIndexTable extends IndexTable {
+	private ArrayColumnList mems; // 列存数据
+	private IArray []keyColumns; // 键列
+	private int keyCount; // 键列数
+	private HashUtil hashUtil; // 用于计算哈希值
+	private int []heads; // 每个哈希位置的第一个行号，0表示没有
+	private int []nexts; // 每行在同一哈希位置的下一个行号，0表示没有
+
+	/**
+	 * 用指定字段建立索引
+	 * @param mems 列存数据
+	 * @param fields 键字段序号
+	 * @param capacity 哈希表容量
+	 */
+	public ArrayColumnIndexTable(ArrayColumnList mems, int []fields, int capacity) {
+		this.mems = mems;
+		keyCount = fields.length;
+		keyColumns = new IArray[keyCount];
+		for (int f = 0; f < keyCount; ++f) {
+			keyColumns[f] = mems.getColumn(fields[f]);
+		}
+
+		int size = mems.size();
+		hashUtil = new HashUtil(capacity > size ? capacity : size);
+		heads = new int[hashUtil.getCapacity()];
+		nexts = new int[size + 1];
+
+		HashUtil hashUtil = this.hashUtil;
+		IArray []keyColumns = this.keyColumns;
+		int []heads = this.heads;
+		int []nexts = this.nexts;
+
+		if (keyCount == 1) {
+			IArray keyColumn = keyColumns[0];
+			for (int i = 1; i <= size; ++i) {
+				int hash = hashUtil.hashCode(keyColumn, i);
+				for (int q = heads[hash]; q != 0; q = nexts[q]) {
+					if (keyColumn.isEquals(q, keyColumn, i)) {
+						throwDupKey(i);
+					}
+				}
+
+				nexts[i] = heads[hash];
+				heads[hash] = i;
+			}
+		} else {
+			for (int i = 1; i <= size; ++i) {
+				int hash = hashUtil.hashCode(keyColumns, i, keyCount);
+				for (int q = heads[hash]; q != 0; q = nexts[q]) {
+					if (isEquals(q, keyColumns, i)) {
+						throwDupKey(i);
+					}
+				}
+
+				nexts[i] = heads[hash];
+				heads[hash] = i;
+			}
+		}
+	}
+
+	private void throwDupKey(int i) {
+		Object []keys = new Object[keyCount];
+		for (int k = 0; k < keyCount; ++k) {
+			keys[k] = keyColumns[k].get(i);
+		}
+
+		String str = keyCount == 1 ? Variant.toString(keys[0]) : new Sequence(keys).toString();
+		MessageManager mm = EngineMessage.get();
+		throw new RQException(str + mm.getMessage("engine.dupKeys"));
+	}
+
+	// 键列的第q行是否与keys的第i行相等
+	private boolean isEquals(int q, IArray []keys, int i) {
+		IArray []keyColumns = this.keyColumns;
+		for (int k = 0; k < keyCount; ++k) {
+			if (!keyColumns[k].isEquals(q, keys[k], i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	public Object find(Object key) {
+		int pos = findPos(key);
+		return pos > 0 ? mems.getRecord(pos) : null;
+	}
+
+	public Object find(Object []keys) {
+		int pos = findPos(keys);
+		return pos > 0 ? mems.getRecord(pos) : null;
+	}
+
+	public int findPos(Object key) {
+		if (keyCount != 1) {
+			if (key instanceof Sequence) {
+				return findPos(((Sequence)key).toArray());
+			} else {
+				return 0;
+			}
+		}
+
+		IArray keyColumn = keyColumns[0];
+		int hash = hashUtil.hashCode(key);
+		for (int q = heads[hash]; q != 0; q = nexts[q]) {
+			if (keyColumn.isEquals(q, key)) {
+				return q;
+			}
+		}
+
+		return 0;
+	}
+
+	public int findPos(Object []keys) {
+		int count = keyCount;
+		if (keys.length < count) {
+			return 0;
+		}
+
+		IArray []keyColumns = this.keyColumns;
+		int hash = hashUtil.hashCode(keys, count);
+		Next:
+		for (int q = heads[hash]; q != 0; q = nexts[q]) {
+			for (int k = 0; k < count; ++k) {
+				if (!keyColumns[k].isEquals(q, keys[k])) {
+					continue Next;
+				}
+			}
+
+			return q;
+		}
+
+		return 0;
+	}
+
+	public int[] findAllPos(IArray key) {
+		return findAllPos(key, null);
+	}
+
+	public int[] findAllPos(IArray key, BoolArray signArray) {
+		if (keyCount != 1) {
+			return findAllPos(new IArray[] {key}, signArray);
+		}
+
+		HashUtil hashUtil = this.hashUtil;
+		IArray keyColumn = keyColumns[0];
+		int []heads = this.heads;
+		int []nexts = this.nexts;
+		int len = key.size();
+		int []pos = new int[len + 1];
+
+		for (int i = 1; i <= len; ++i) {
+			if (signArray != null && signArray.isFalse(i)) {
+				continue;
+			}
+
+			int hash = hashUtil.hashCode(key, i);
+			for (int q = heads[hash]; q != 0; q = nexts[q]) {
+				if (keyColumn.isEquals(q, key, i)) {
+					pos[i] = q;
+					break;
+				}
+			}
+		}
+
+		return pos;
+	}
+
+	public int[] findAllPos(IArray []keys) {
+		return findAllPos(keys, null);
+	}
+
+	public int[] findAllPos(IArray []keys, BoolArray signArray) {
+		int count = keyCount;
+		if (keys.length < count) {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException(mm.getMessage("function.invalidParam"));
+		}
+
+		if (count == 1) {
+			return findAllPos(keys[0], signArray);
+		}
+
+		HashUtil hashUtil = this.hashUtil;
+		int []heads = this.heads;
+		int []nexts = this.nexts;
+		int len = keys[0].size();
+		int []pos = new int[len + 1];
+
+		for (int i = 1; i <= len; ++i) {
+			if (signArray != null && signArray.isFalse(i)) {
+				continue;
+			}
+
+			int hash = hashUtil.hashCode(keys, i, count);
+			for (int q = heads[hash]; q != 0; q = nexts[q]) {
+				if (isEquals(q, keys, i)) {
+					pos[i] = q;
+					break;
+				}
+			}
+		}
+
+		return pos;
+	}
+}
@@ -5,13 +5,13 @@ import java.io.IOException;
 import com.scudata.util.Variant;
 
 /**
- * ڼ¼ƽֵʱֵ
+ * 用于记录分组运算求平均值的临时值
  * @author WangXiaoJun
  *
  */
 public class AvgValue {
-	private Object sumVal; // Ԫػֵ
-	private int count; // Ԫnull
+	private Object sumVal; // 元素汇总值
+	private int count; // 元素数，忽略null
 	
 	public AvgValue() {
 	}
@@ -22,9 +22,19 @@ public class AvgValue {
 			this.count = 1;
 		}
 	}
+	
+	/**
+	 * 用汇总值和元素数构建
+	 * @param sumVal 元素汇总值
+	 * @param count 元素数，忽略null
+	 */
+	public AvgValue(Object sumVal, int count) {
+		this.sumVal = sumVal;
+		this.count = count;
+	}
 
 	/**
-	 * Ԫ
+	 * 添加元素
 	 * @param val
 	 */
 	public void add(Object val) {
@@ -39,7 +49,7 @@ public class AvgValue {
 	}
 	
 	/**
-	 * ȡƽֵ
+	 * 取平均值
 	 * @return
 	 */
 	public Object getAvgValue() {
@@ -3,7 +3,15 @@ package com.scudata.dm;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Date;
 
+import com.scudata.array.BoolArray;
+import com.scudata.array.DateArray;
+import com.scudata.array.DoubleArray;
+import com.scudata.array.IArray;
+import com.scudata.array.IntArray;
+import com.scudata.array.ObjectArray;
+import com.scudata.array.StringArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.cursor.BFileCursor;
@@ -15,59 +23,63 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ļȡ
+ * 集文件读取对象
  * @author WangXiaoJun
  *
  */
 public class BFileReader {
-	private FileObject file; // ļӦļ
-	private int type; // ļ
-	private long []blocks; // ÿһĽλ
-	private int lastBlock; // һ
-	private long totalRecordCount;	// ¼
-	private long blockRecordCount;	// 
-	private long firstRecordPos; // һ¼λ
+	private FileObject file; // 集文件对应的文件对象
+	private int type; // 集文件类型
+	private long []blocks; // 每一块的结束位置
+	private int lastBlock; // 最后一块的索引
+	private long totalRecordCount;	// 记录总数
+	private long blockRecordCount;	// 区块总数
+	private long firstRecordPos; // 第一条记录的位置
 	
-	private DataStruct ds; // ļݽṹ
-	private DataStruct readDs; // ѡֶɵݽṹ
-	private String []readFields; // ѡֶ
-	private int []readIndex; // ѡֶζӦ
-	private boolean isSingleField; // Ƿ񷵻صɵ
-	private boolean isSequenceMember; // Ƿ񷵻ɵ
-	private boolean isExist = true; // ֶǷļ
+	private DataStruct ds; // 集文件数据结构
+	private DataStruct readDs; // 选出字段组成的数据结构
+	private String []readFields; // 选出字段
+	private int []readIndex; // 选出字段对应的序号
+	private boolean isSingleField; // 是否返回单列组成的序列
+	private boolean isSequenceMember; // 是否返回序列组成的序列
+	private boolean isExist = true; // 字段是否都在文件中
 
-	private int segSeq; // ֶţ1ʼ
-	private int segCount; // ֶ
-	private long endPos = -1; // ȡĽλãڶ̷ֶ߳ζȡ
+	private int segSeq; // 分段序号，从1开始计数
+	private int segCount; // 分段数
+	private long endPos = -1; // 读取的结束位置，用于多线程分段读取
 	
-	private ObjectReader importer; // ȡ
+	private long dataEndPos = -1; // 数据后面有块信息时数据的结束位置，否则为-1
+	private Object []blockMinValues; // 每块首字段的最小值，没读块信息时为空
+	private Object []blockMaxValues; // 每块首字段的最大值
+	
+	private ObjectReader importer; // 对象读取类
 	
 	/**
-	 * ļ󴴽ļȡ
+	 * 由文件对象创建集文件读取类
 	 * 
-	 * @param file	ļ
+	 * @param file	文件对象
 	 */
 	public BFileReader(FileObject file) {
 		this(file, null, null);
 	}
 	
 	/**
-	 * ļͶдַļ
-	 * @param file ļ
-	 * @param fields ѡֶ
-	 * @param opt ѡiֻ1ʱسУeļвʱnullȱʡwÿж
+	 * 用文件对象、列名和读写字符串创建二进制文件
+	 * @param file 文件对象
+	 * @param fields 选出字段
+	 * @param opt 选项，i：结果集只有1列时返回成序列，e：在文件中不存在时将生成null，缺省将报错，w：把每行读成序列
 	 */
 	public BFileReader(FileObject file, String []fields, String opt) {
 		this(file, fields, 1, 1, opt);
 	}
 
 	/**
-	 * ļͶдַļ
-	 * @param file ļ
-	 * @param fields ѡֶ
-	 * @param segSeq ҪȡĶκţ1ʼ
-	 * @param segCount ֶ
-	 * @param opt ѡiֻ1ʱسУeļвʱnullȱʡwÿж
+	 * 用文件对象、列名和读写字符串创建二进制文件
+	 * @param file 文件对象
+	 * @param fields 选出字段
+	 * @param segSeq 要读取的段号，从1开始计数
+	 * @param segCount 分段数
+	 * @param opt 选项，i：结果集只有1列时返回成序列，e：在文件中不存在时将生成null，缺省将报错，w：把每行读成序列
 	 */
 	public BFileReader(FileObject file, String []fields, int segSeq, int segCount, String opt) {
 		this.file = file;
@@ -94,7 +106,7 @@ public class BFileReader {
 	}
 	
 	/**
-	 * нṹ
+	 * 返回列结构
 	 * @return DataStruct
 	 */
 	public DataStruct getFileDataStruct() {
@@ -102,7 +114,7 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ļзֶ
+	 * 对文件进行分段
 	 * 
 	 * @throws IOException
 	 */
@@ -111,7 +123,7 @@ public class BFileReader {
 		int avg = (lastBlock + 1) / segCount;
 		
 		if (avg < 1) {
-			// ÿβһ
+			// 每段不足一块
 			if (segSeq > lastBlock) {
 				endPos = 0;
 			} else {
@@ -125,7 +137,7 @@ public class BFileReader {
 				int s = segSeq * avg - 1;
 				int e = s + avg;
 				
-				// ʣĿÿζһ
+				// 剩余的块后面的每段多一块
 				int mod = (lastBlock + 1) % segCount;
 				int n = mod - (segCount - segSeq - 1);
 				if (n > 0) {
@@ -142,17 +154,17 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ǰλ
-	 * @return	صǰλ
+	 * 当前读到的流的位置
+	 * @return	返回当前读到的位置
 	 */
 	public long position() {
 		return importer.position();
 	}
 	
 	/**
-	 * λλá
-	 * ֧λǰλĻΧͻ쳣
-	 * @param pos	Ҫλλ
+	 * 定位、到给定位置。
+	 * 支持向后定位。向前定位的话，若超出缓冲区范围，就会抛异常。
+	 * @param pos	要定位的位置
 	 * @throws IOException
 	 */
 	public void seek(long pos) throws IOException {
@@ -160,7 +172,7 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ǰȡǷ
+	 * 当前读取类是否打开
 	 * 
 	 * @return
 	 */
@@ -177,9 +189,9 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ´
+	 * 重新打开
 	 * 
-	 * @param bufSize	ĴС
+	 * @param bufSize	缓冲区的大小
 	 */
 	private void reopen(int bufSize) {
 		InputStream in = file.getBlockInputStream(bufSize);
@@ -188,9 +200,9 @@ public class BFileReader {
 	}
 	
 	/**
-	 * һļbufSizeʼļȡĻС
+	 * 打开一个二进制文件，并用bufSize初始化文件读取类的缓冲区大小。
 	 * 
-	 * @param bufSize	ĴС
+	 * @param bufSize	缓冲区的大小
 	 * @throws IOException
 	 */
 	public void open(int bufSize) throws IOException {
@@ -238,6 +250,14 @@ public class BFileReader {
 			if (segCount > 1) {
 				doSegment();
 			}
+			
+			if (ver == 1) {
+				// 数据后面有块信息，读数时不能超过数据的结束位置
+				dataEndPos = blocks[lastBlock];
+				if (endPos == -1) {
+					endPos = dataEndPos;
+				}
+			}
 		} else if (type == BFileWriter.TYPE_GROUP) {
 			totalRecordCount = importer.readLong64();
 			if (ver > 0) {
@@ -300,7 +320,7 @@ public class BFileReader {
 	}
 	
 	/**
-	 * رļر
+	 * 关闭文件，关闭流
 	 * @throws IOException
 	 */
 	public void close() throws IOException {
@@ -311,7 +331,7 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ȡļеļ¼зء
+	 * 读取文件中所有的记录，并组成序列返回。
 	 * 
 	 * @return
 	 * @throws IOException
@@ -321,9 +341,9 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ȡָļ¼
-	 * @param n	Ҫȡļ¼
-	 * @return	бļ¼
+	 * 读取指定条数的记录
+	 * @param n	要读取的记录数
+	 * @return	用序列保存的记录集
 	 * @throws IOException
 	 */
 	public Sequence read(int n) throws IOException {
@@ -338,7 +358,7 @@ public class BFileReader {
 		if (n <= ICursor.FETCHCOUNT) {
 			initSize = n;
 		} else if (n >= totalRecordCount && totalRecordCount > 0) {
-			// ֶζƼ˼¼;
+			// 分段二进制记了记录总数;
 			initSize = (int)totalRecordCount;
 		} else if (n < ICursor.MAXSIZE) {
 			initSize = n;
@@ -467,16 +487,147 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ָļ¼
+	 * 返回能否用readArrays按列读取，读成单列序列或者序列组成的序列时不能，需在打开后调用
+	 * @return boolean
+	 */
+	public boolean canReadArrays() {
+		return !isSingleField && !isSequenceMember;
+	}
+	
+	/**
+	 * 按列读取指定条数的记录，每个选出字段的值存成一个数组
+	 * 字段的第一个非空值决定数组的类型，后面有类型不一致的值时改用对象数组
+	 * @param n	要读取的记录数
+	 * @return	选出字段的值数组，没有数据时返回空
+	 * @throws IOException
+	 */
+	public IArray[] readArrays(int n) throws IOException {
+		long endPos = this.endPos;
+		ObjectReader importer = this.importer;
+		if (n < 1 || (endPos != -1 && importer.position() >= endPos)) {
+			return null;
+		}
+
+		int fcount = ds.getFieldCount();
+		int initSize = n <= ICursor.FETCHCOUNT ? n : ICursor.FETCHCOUNT;
+		int []readIndex = this.readIndex;
+		int resultCount = readFields == null ? fcount : readFields.length;
+		IArray []arrays = new IArray[resultCount];
+		boolean []isTyped = new boolean[resultCount]; // 是否已按第一个非空值确定了数组类型
+		for (int f = 0; f < resultCount; ++f) {
+			arrays[f] = new ObjectArray(initSize);
+		}
+		
+		int count = 0;
+		for (; count < n; ++count) {
+			if (importer.hasNext() && (endPos == -1 || importer.position() < endPos)) {
+				if (readFields == null) {
+					for (int f = 0; f < fcount; ++f) {
+						addValue(arrays, isTyped, f, importer.readObject(), initSize);
+					}
+				} else {
+					for (int f = 0; f < fcount; ++f) {
+						if (readIndex[f] != -1) {
+							addValue(arrays, isTyped, readIndex[f], importer.readObject(), initSize);
+						} else {
+							importer.skipObject();
+						}
+					}
+				}
+			} else {
+				break;
+			}
+		}
+		
+		if (count == 0) {
+			return null;
+		}
+		
+		// 文件中没有的选出字段取值为空
+		for (IArray array : arrays) {
+			while (array.size() < count) {
+				array.add(null);
+			}
+		}
+		
+		return arrays;
+	}
+	
+	// 把值加到字段的数组中，第一个非空值按类型产生数组，前面的空值补到新数组中，其它类型用对象数组
+	private static void addValue(IArray []arrays, boolean []isTyped, int f, Object value, int initSize) {
+		IArray array = arrays[f];
+		if (value == null) {
+			array.add(null);
+		} else if (isTyped[f]) {
+			if (!isTypeMatch(array, value)) {
+				// 整数和长整数等混合时改用对象数组
+				array = array.toObjectArray();
+				arrays[f] = array;
+			}
+			
+			array.add(value);
+		} else {
+			IArray typed;
+			if (value instanceof Integer) {
+				typed = new IntArray(initSize);
+			} else if (value instanceof Long) {
+				typed = new com.scudata.array.LongArray(initSize);
+			} else if (value instanceof Double) {
+				typed = new DoubleArray(initSize);
+			} else if (value instanceof String) {
+				typed = new StringArray(initSize);
+			} else if (value instanceof Date) {
+				typed = new DateArray(initSize);
+			} else if (value instanceof Boolean) {
+				typed = new BoolArray(initSize);
+			} else {
+				typed = array;
+			}
+			
+			if (typed != array) {
+				for (int i = array.size(); i > 0; --i) {
+					typed.add(null);
+				}
+				
+				arrays[f] = typed;
+			}
+			
+			typed.add(value);
+			isTyped[f] = true;
+		}
+	}
+	
+	// 值能否存入数组
+	private static boolean isTypeMatch(IArray array, Object value) {
+		if (array instanceof IntArray) {
+			return value instanceof Integer;
+		} else if (array instanceof com.scudata.array.LongArray) {
+			return value instanceof Long;
+		} else if (array instanceof DoubleArray) {
+			return value instanceof Double;
+		} else if (array instanceof StringArray) {
+			return value instanceof String;
+		} else if (array instanceof DateArray) {
+			return value instanceof Date;
+		} else if (array instanceof BoolArray) {
+			return value instanceof Boolean;
+		} else {
+			return true;
+		}
+	}
+	
+	/**
+	 * 跳过，跳过指定的记录数
 	 * 
-	 * @param n	Ҫļ¼
-	 * @return	ʵʵļ¼
+	 * @param n	要跳过的记录数
+	 * @return	返回实际的跳过的记录数
 	 * @throws IOException
 	 */
 	public long skip(long n) throws IOException {
-		if (totalRecordCount > 0 && segCount <= 1 && firstRecordPos == position() && endPos == -1) {
+		if (totalRecordCount > 0 && segCount <= 1 && firstRecordPos == position() && 
+				(endPos == -1 || endPos == dataEndPos)) {
 			if (totalRecordCount <= n) {
-				seek(file.size());
+				seek(dataEndPos == -1 ? file.size() : dataEndPos);
 				return totalRecordCount;
 			}
 
@@ -507,18 +658,92 @@ public class BFileReader {
 		return n;
 	}
 	
+	// 是否还有记录，数据后面有块信息时到数据的结束位置为止
+	private boolean hasNextRecord() throws IOException {
+		ObjectReader importer = this.importer;
+		return importer.hasNext() && (dataEndPos == -1 || importer.position() < dataEndPos);
+	}
+	
+	/**
+	 * 是否有每块首字段的最小值和最大值信息
+	 * @return boolean
+	 */
+	public boolean hasBlockValues() {
+		return dataEndPos != -1;
+	}
+	
+	// 读取数据后面的块信息
+	private void readBlockValues() throws IOException {
+		ObjectReader in = new ObjectReader(file.getInputStream());
+		try {
+			in.seek(dataEndPos);
+			int count = in.readInt32();
+			Object []minValues = new Object[count];
+			Object []maxValues = new Object[count];
+			for (int i = 0; i < count; ++i) {
+				minValues[i] = in.readObject();
+				maxValues[i] = in.readObject();
+			}
+			
+			blockMinValues = minValues;
+			blockMaxValues = maxValues;
+		} finally {
+			in.close();
+		}
+	}
+	
+	/**
+	 * 取每块首字段的最小值，没有块信息时返回空
+	 * @return Object[] 第i块的数据在blocks[i - 1]到blocks[i]之间
+	 * @throws IOException
+	 */
+	public Object[] getBlockMinValues() throws IOException {
+		if (dataEndPos == -1) {
+			return null;
+		} else if (blockMinValues == null) {
+			readBlockValues();
+		}
+		
+		return blockMinValues;
+	}
+	
+	/**
+	 * 取每块首字段的最大值，没有块信息时返回空
+	 * @return Object[]
+	 * @throws IOException
+	 */
+	public Object[] getBlockMaxValues() throws IOException {
+		if (dataEndPos == -1) {
+			return null;
+		} else if (blockMaxValues == null) {
+			readBlockValues();
+		}
+		
+		return blockMaxValues;
+	}
+	
+	// 取blocks[i]处的记录的键值，文件按键有序，键是首字段并且有块信息时不用读数据
+	private Object getBlockStartValue(int i, int keyField) throws IOException {
+		if (keyField == 0 && dataEndPos != -1) {
+			return getBlockMinValues()[i + 1];
+		}
+		
+		seek(blocks[i]);
+		return readRecordField(keyField);
+	}
+	
 	/**
-	 * ȡǰ¼ֶָ
+	 * 取当前记录的指定字段
 	 * 
-	 * @param fields	ֶαǣֵΪ-1Ĳȡ
-	 * @param values	
-	 * @return		true	ȡɹ
-	 * 				false	ȡʧ
+	 * @param fields	字段标记，值为-1的不取数。
+	 * @param values	结果数组
+	 * @return		true	取数成功
+	 * 				false	取数失败
 	 * @throws IOException
 	 */
 	public boolean readRecord(int []fields, Object []values) throws IOException {
 		ObjectReader importer = this.importer;
-		if (importer.hasNext()) {
+		if (hasNextRecord()) {
 			for (int f = 0, fcount = fields.length; f < fcount; ++f) {
 				if (fields[f] != -1) {
 					values[fields[f]] = importer.readObject();
@@ -534,9 +759,9 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ȡһһ¼ĳֶΡ
-	 * @param field	ֶָ
-	 * @return	ֵȡĽ
+	 * 读取一个一条记录的某个字段。
+	 * @param field	指定的字段索引。
+	 * @return	返回值读取的结果
 	 * @throws IOException
 	 */
 	private Object readRecordField(int field) throws IOException {
@@ -548,18 +773,18 @@ public class BFileReader {
 		return importer.readObject();
 	}
 	
-	// ȡǰ¼ֶ
+	// 取当前记录的字段
 	/**
-	 * ȡһ¼
+	 * 读取一条记录
 	 * 
-	 * @param values	¼Ķ
-	 * @return			true	ȡɹ
-	 * 					false	ȡʧ
+	 * @param values	保存记录的对象数组
+	 * @return			true	取数成功
+	 * 					false	取数失败
 	 * @throws IOException
 	 */
 	public boolean readRecord(Object []values) throws IOException {
 		ObjectReader importer = this.importer;
-		if (importer.hasNext()) {
+		if (hasNextRecord()) {
 			for (int f = 0, fcount = values.length; f < fcount; ++f) {
 				values[f] = importer.readObject();
 			}
@@ -571,13 +796,13 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ¼ļβ򷵻false
+	 * 跳过记录，如果到文件尾则返回false
 	 * @return
 	 * @throws IOException
 	 */
 	public boolean skipRecord() throws IOException {
 		ObjectReader importer = this.importer;
-		if (importer.hasNext()) {
+		if (hasNextRecord()) {
 			for (int f = 0, fcount = ds.getFieldCount(); f < fcount; ++f) {
 				importer.skipObject();
 			}
@@ -589,23 +814,23 @@ public class BFileReader {
 	}
 			
 	/**
-	 * ӶxļfxAеļ¼α
-	 * ӵǰݼУѡkeyֵvaluesеļ¼ѡȡfieldsֵֶ±±αꡣ
-	 * @param key		Ѿźֶεֶ
-	 * @param values	οֵkeyֶЩֵԱ
-	 * @param fields	ֶбյýЩֶ
-	 * @param ctx		ı
-	 * @return			ɸѡݼα
+	 * 从对x有序的文件f读出x在序列A中的记录构成游标
+	 * 从当前数据集中，选出key值在values中的记录，选取fields字段值构成新表。并返回新表的游标。
+	 * @param key		已经排好序的字段的字段名。
+	 * @param values	参考值，由key字段与这些值做对比
+	 * @param fields	字段名列表，最终得结果表，由这些字段组成
+	 * @param ctx		上下文变量
+	 * @return			返回筛选出的数据集的游标
 	 */
 	public ICursor iselect(String key, Sequence values, String []fields, Context ctx) {
 		int count = values.length();
 		if (count == 0) {
-			//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+			//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 			return new MemoryCursor(null);
 		}
 		
 		try {
-			// 򿪶ļûС
+			// 打开二进制文件，并设置缓冲区大小
 			open(1024);
 			long []blocks = this.blocks;
 			if (blocks == null) {
@@ -613,7 +838,7 @@ public class BFileReader {
 				throw new RQException(mm.getMessage("license.fileFormatError"));
 			}
 			
-			// ȡֶ
+			// 取得字段索引
 			int keyField = ds.getFieldIndex(key);
 			if (keyField < 0) {
 				MessageManager mm = EngineMessage.get();
@@ -624,15 +849,13 @@ public class BFileReader {
 			int fcount = ds.getFieldCount();
 			Object []vals = new Object[fcount];
 			
-			// ֶ
+			// 定义分段
 			LongArray posArray = new LongArray(count > 5 ? count * 2 : 10);
 			long prevEnd = position();
 			int nextBlock = 0;
 			Object nextBlockVal = null;
 			if (lastBlock > 0) {
-				seek(blocks[0]);
-				readRecord(vals);
-				nextBlockVal = vals[keyField];
+				nextBlockVal = getBlockStartValue(0, keyField);
 			}
 			
 			int i = 1;
@@ -640,12 +863,14 @@ public class BFileReader {
 				Object val = values.getMem(i);
 				int cmp = Variant.compare(val, nextBlockVal);
 				
-				// ΪļظֵȵʱҪǰһ鿪ʼ
+				// 因为文件可能有重复的值，相等的时候需要从前一块开始找
 				if (cmp <= 0) {
 					if (position() > prevEnd) {
 						close();
 						reopen(1024);
 						seek(prevEnd);
+					} else if (position() < prevEnd) {
+						seek(prevEnd);
 					}
 					
 					while (true) {
@@ -656,9 +881,7 @@ public class BFileReader {
 							if (prevEnd == blocks[nextBlock]) {
 								nextBlock++;
 								if (nextBlock < lastBlock) {
-									seek(blocks[nextBlock]);
-									readRecord(vals);
-									nextBlockVal = vals[keyField];
+									nextBlockVal = getBlockStartValue(nextBlock, keyField);
 								}
 								
 								break;
@@ -669,15 +892,13 @@ public class BFileReader {
 							if (prevEnd == blocks[nextBlock]) {
 								nextBlock++;
 								if (nextBlock < lastBlock) {
-									seek(blocks[nextBlock]);
-									readRecord(vals);
-									nextBlockVal = vals[keyField];
+									nextBlockVal = getBlockStartValue(nextBlock, keyField);
 								}
 								
 								break;
 							}
 
-							// ļظֵûк͵ǰֵظ
+							// 文件可能有重复的值，继续找有没有和当前值重复的
 							continue;
 						} else {
 							i++;
@@ -698,9 +919,7 @@ public class BFileReader {
 							if (prevEnd == blocks[nextBlock]) {
 								nextBlock++;
 								if (nextBlock < lastBlock) {
-									seek(blocks[nextBlock]);
-									readRecord(vals);
-									nextBlockVal = vals[keyField];
+									nextBlockVal = getBlockStartValue(nextBlock, keyField);
 								}
 								
 								break;
@@ -713,9 +932,7 @@ public class BFileReader {
 					prevEnd = blocks[nextBlock];					
 					nextBlock++;
 					if (nextBlock < lastBlock) {
-						seek(blocks[nextBlock]);
-						readRecord(vals);
-						nextBlockVal = vals[keyField];
+						nextBlockVal = getBlockStartValue(nextBlock, keyField);
 					}
 				}
 			}
@@ -725,6 +942,8 @@ public class BFileReader {
 					close();
 					reopen(1024);
 					seek(prevEnd);
+				} else if (position() < prevEnd) {
+					seek(prevEnd);
 				}
 				
 				Object val = values.getMem(i);
@@ -756,7 +975,7 @@ public class BFileReader {
 			}
 			
 			if (posArray.size() == 0) {
-				//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+				//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 				return new MemoryCursor(null);
 			}
 						
@@ -772,13 +991,13 @@ public class BFileReader {
 	}
 	
 	/**
-	 * Ӷxļfx[a,b]ļ¼α
-	 * ӵǰݼУѡkeyֵstartValendVal֮ļ¼ѡȡfieldsֵֶ±±αꡣ
-	 * @param key		Ѿźֶεֶ
-	 * @param startVal	ɸѡݵʼֵ
-	 * @param endVal	ɸѡݵĽֵ
-	 * @param fields	ֶбյýЩֶ
-	 * @param ctx		ı
+	 * 从对x有序的文件f读出x在[a,b]区间的记录构成游标
+	 * 从当前数据集中，选出key值在startVal和endVal之间的记录，选取fields字段值构成新表。并返回新表的游标。
+	 * @param key		已经排好序的字段的字段名。
+	 * @param startVal	筛选数据的起始值
+	 * @param endVal	筛选数据的结束值
+	 * @param fields	字段名列表，最终得结果表，由这些字段组成
+	 * @param ctx		上下文变量
 	 * @return
 	 */
 	public ICursor iselect(String key, Object startVal, Object endVal, String []fields, Context ctx) {
@@ -807,8 +1026,7 @@ public class BFileReader {
 			endBlock = lastBlock;
 			
 			for (int i = 0; i < lastBlock; ++i) {
-				seek(blocks[i]);
-				Object val = readRecordField(keyField);
+				Object val = getBlockStartValue(i, keyField);
 				if (Variant.compare(val, startVal) >= 0) {
 					startBlock = i;
 					if (endVal != null && Variant.compare(val, endVal) > 0) {
@@ -821,8 +1039,7 @@ public class BFileReader {
 			
 			if (endVal != null && endBlock != startBlock) {
 				for (int i = startBlock + 1; i < lastBlock; ++i) {
-					seek(blocks[i]);
-					Object val = readRecordField(keyField);
+					Object val = getBlockStartValue(i, keyField);
 					if (Variant.compare(val, endVal) > 0) {
 						endBlock = i;
 						break;
@@ -856,7 +1073,7 @@ public class BFileReader {
 				readRecord(vals);
 				if (Variant.compare(vals[keyField], startVal) >= 0) {
 					if (endVal != null && Variant.compare(vals[keyField], endVal) > 0) {
-						//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+						//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 						return new MemoryCursor(null);
 					}
 					
@@ -890,7 +1107,7 @@ public class BFileReader {
 				cursor.setPosRange(startPos, endPos);
 				return cursor;
 			} else {
-				//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+				//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 				return new MemoryCursor(null);
 			}
 		} catch (IOException e) {
@@ -904,15 +1121,15 @@ public class BFileReader {
 	}
 	
 	/**
-	 * öȡĽλãڶ̷ֶ߳ζȡ
-	 * @param pos λ
+	 * 设置读取的结束位置，用于多线程分段读取
+	 * @param pos 位置
 	 */
 	public void setEndPos(long pos) {
 		this.endPos = pos;
 	}
 	
 	/**
-	 * ȡݽṹ
+	 * 取结果集数据结构
 	 * @return
 	 */
 	public DataStruct getResultSetDataStruct() {
@@ -924,13 +1141,13 @@ public class BFileReader {
 	}
 	
 	/**
-	 * Աȶֶεֵ
+	 * 对比多个字段的值
 	 * 
-	 * @param fieldsValue	ֵֶ
-	 * @param refValues		οֵ
-	 * @return	1	fieldsValueֵȽϴ
-	 * 			0	һ
-	 * 			-1	refValuesֵȽϴ
+	 * @param fieldsValue	字段值
+	 * @param refValues		参考值
+	 * @return	1	fieldsValue的值比较大
+	 * 			0	两个参数一样大
+	 * 			-1	refValues的值比较大
 	 */
 	private int	compareFields(Object[] fieldsValue, Object refValues ) {
 		Object refObj = null;
@@ -950,13 +1167,13 @@ public class BFileReader {
 	}
 	
 	/**
-	 * Աȶֶεֵ
+	 * 对比多个字段的值
 	 * 
-	 * @param fieldsValue	ֵֶ
-	 * @param refValues		οֵ
-	 * @return	1	refValuesֵȽϴ
-	 * 			0	һ
-	 * 			-1	fieldsValueֵȽϴ
+	 * @param fieldsValue	字段值
+	 * @param refValues		参考值
+	 * @return	1	refValues的值比较大
+	 * 			0	两个参数一样大
+	 * 			-1	fieldsValue的值比较大
 	 */	
 	private int compareFields(Object refValues, Object[] fieldsValue) {
 		Object refObj = null;
@@ -976,23 +1193,23 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ѡʽļvaluesеļ¼
-	 * @param exp		ʽ
-	 * @param values	ԱȽ
-	 * @param fields	ɽֶ
-	 * @param ctx		ı
-	 * @return			ɸѡļ¼
+	 * 选出表达式的计算结果在values中的记录
+	 * @param exp		表达式
+	 * @param values	对比结果
+	 * @param fields	组成结果的字段
+	 * @param ctx		上下文变量
+	 * @return			返回筛选出的记录
 	 */
 	public ICursor iselect(Expression exp, Sequence values,
 			String []fields, Context ctx) {
 		if (exp == null) {
-			//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+			//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 			return new MemoryCursor(null);
 		}
 		
 		
-		// ֶαʽ̣ԴЧ
-		//  ʽǷʽַ
+		// 多字段表达式，走另外的流程，可以大幅提高效率
+		//  输入表达式是否式多字符串
 		String[] fieldNames = exp.toFields();
 		if (fieldNames != null) {
 			try {
@@ -1022,19 +1239,19 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ֶΡֶδӵǰݼѡ valuesеļ¼
+	 * 单字段、多字段从当前数据集中选出在 values中的记录
 	 * 
-	 * @param	refFields	οֶ
-	 * @param	values		οֶεĲοֵ
-	 * @param	fields      ±ֶΣԲοֶ
-	 * @param	ctx			ı
+	 * @param	refFields	参考字段
+	 * @param	values		参考字段的参考值
+	 * @param	fields      构成新表的字段，可以不包括参考字段
+	 * @param	ctx			上下文变量
 	 * 
-	 * @return	ɸѡݼcursor
+	 * @return	返回筛选出的数据集cursor
 	 * 
 	*/
 	public ICursor iselectFields(String[] refFields, Sequence values,
 			String []fields, Context ctx) {
-		// ҶӦе
+		// 查找对应列的索引
 		int fcount = ds.getFieldCount();
 		int[] selFields = new int[fcount];
 		for (int i = 0; i < fcount; i++) {
@@ -1052,15 +1269,15 @@ public class BFileReader {
 			fcou++;
 		}
 		
-		// ȡü¼
+		// 取得记录长度
 		int count = values.length();
 		if (count == 0) {
-			//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+			//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 			return new MemoryCursor(null);
 		}
 		
 		try {
-			// ļ
+			// 打开文件
 			open(1024);
 			long []blocks = this.blocks;
 			if (blocks == null) {
@@ -1083,7 +1300,7 @@ public class BFileReader {
 			
 			int i = 1;
 			while (i <= count && nextBlock < lastBlock) {
-				// ȡһοֵ
+				// 取得一个参考值
 				Object val = values.getMem(i);
 				int cmp = compareFields(val, nextBlockVal);
 				if (cmp <= 0) {
@@ -1126,7 +1343,7 @@ public class BFileReader {
 						} else {
 							i++;
 							while (i <= count) {
-								// ȡһοֵ
+								// 取得一个参考值
 								val = values.getMem(i);
 								cmp = compareFields(val, vals);
 								if (cmp > 0) {
@@ -1201,7 +1418,7 @@ public class BFileReader {
 			}
 			
 			if (posArray.size() == 0) {
-				//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+				//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 				return new MemoryCursor(null);
 			}
 						
@@ -1219,7 +1436,7 @@ public class BFileReader {
 	private ICursor iselectExpression(Expression exp, Sequence values, String []fields, Context ctx) {
 		int count = values.length();
 		if (count == 0) {
-			//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+			//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 			return new MemoryCursor(null);
 		}
 		
@@ -1372,7 +1589,7 @@ public class BFileReader {
 			}
 			
 			if (posArray.size() == 0) {
-				//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+				//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 				return new MemoryCursor(null);
 			}
 			
@@ -1388,19 +1605,19 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ʽֵstartValendVal֮ļ¼
-	 * @param	exp			ʽeΪnull, ҲΪnull
-	 * @param	startVal	ʼֵ
-	 * @param	endVal		ֵ
-	 * @param	fields      ±ֶΣԲοֶ
-	 * @param	ctx			ı
+	 * 表达式的值，在startVal和endVal之间的记录
+	 * @param	exp			表达式。若e为null, 则结果也为null
+	 * @param	startVal	起始值
+	 * @param	endVal		结束值
+	 * @param	fields      构成新表的字段，可以不包括参考字段
+	 * @param	ctx			上下文变量
 	 * 
-	 * @return	ضӦα
+	 * @return	返回对应的游标
 	*/
 	public ICursor iselect(Expression exp, Object startVal,
 			Object endVal, String []fields, Context ctx) {
 		if (exp == null) {
-			//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+			//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 			return new MemoryCursor(null);
 		}
 		
@@ -1411,12 +1628,12 @@ public class BFileReader {
 			throw new RQException(mm.getMessage("file.fileNoExist", file.getFileName()));
 		}
 
-		// ֶαʽ̣ԴЧ
-		//  ʽǷʽַ
+		// 多字段表达式，走另外的流程，可以大幅提高效率
+		//  输入表达式是否式多字符串
 		String[] fieldNames = exp.toFields();
 		if (null != fieldNames) {
 			boolean multi = true;
-			// жǷʽֶ
+			// 判断是否式多字段
 			loop:for (int i = 0; i < fieldNames.length; i++) {
 				for (int j = 0; j < ds.getFieldCount(); j ++) {
 					if (fieldNames[i].equals(ds.getFieldName(j)))
@@ -1432,30 +1649,30 @@ public class BFileReader {
 			}
 		}
 		
-		// ͨ
+		// 走普通的流程
 		
 		return iselectExpression(exp, startVal, endVal, fields, ctx);
 	}
 	/**
-	 * ֶΡֵֶstartValendVal֮ļ¼
+	 * 单字段、多字段值，在startVal和endVal之间的记录
 	 * 
-	 * @param	refFields	οֶ
-	 * @param	startVal	ʼֵ
-	 * @param	endVal		ֵ
-	 * @param	fields      ±ֶΣԲοֶ
-	 * @param	ctx			ı
+	 * @param	refFields	参考字段
+	 * @param	startVal	起始值
+	 * @param	endVal		结束值
+	 * @param	fields      构成新表的字段，可以不包括参考字段
+	 * @param	ctx			上下文变量
 	 * 
-	 * @return	ضӦα
+	 * @return	返回对应的游标
 	*/
 	private ICursor iselectFields(String[] refFields, Object startVal, Object endVal, String []fields, Context ctx) {
 		int startBlock;
 		int endBlock ;
 		long firstPos;
-		Object[] vals = null; // ȡļ¼,ǵֶλֶ
+		Object[] vals = null; // 读取的记录数据,可能是单字段或多字段
 		int fcount = ds.getFieldCount();
-		int[] selFields = new int[fcount]; // Ҫȡֶ
+		int[] selFields = new int[fcount]; // 要读取的字段
 		
-		// ҶӦе
+		// 查找对应列的索引
 		for (int i = 0; i < fcount; i++) {
 			selFields[i] = -1;
 		}
@@ -1533,7 +1750,7 @@ public class BFileReader {
 				readRecord(selFields, vals);
 				if (compareFields(vals, startVal) >= 0) {
 					if (endVal != null && compareFields(vals, endVal) > 0) {
-						//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+						//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 						return new MemoryCursor(null);
 					}
 					
@@ -1567,7 +1784,7 @@ public class BFileReader {
 				cursor.setPosRange(startPos, endPos);
 				return cursor;
 			} else {
-				//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+				//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 				return new MemoryCursor(null);
 			}
 		} catch (IOException e) {
@@ -1581,24 +1798,24 @@ public class BFileReader {
 	}
 	
 	/**
-	 * ʽstartValendVal֮ļ¼
+	 * 表达式，在startVal和endVal之间的记录
 	 * 
-	 * @param	e			ʽ
-	 * @param	startVal	ʼֵ
-	 * @param	endVal		ֵ
-	 * @param	fields      ±ֶΣԲοֶ
-	 * @param	ctx			ı
+	 * @param	e			计算表达式
+	 * @param	startVal	起始值
+	 * @param	endVal		结束值
+	 * @param	fields      构成新表的字段，可以不包括参考字段
+	 * @param	ctx			上下文变量
 	 * 
-	 * @return	ضӦα
+	 * @return	返回对应的游标
 	*/
 	private ICursor iselectExpression(Expression exp, Object startVal, Object endVal, String []fields, Context ctx) {
 		int startBlock;
 		int endBlock ;
 		long firstPos;
-		Object[] vals = null; // ȡļ¼,ǵֶλֶ
+		Object[] vals = null; // 读取的记录数据,可能是单字段或多字段
 		Record rec = new Record(ds);
 		
-		// ʼֵȽ
+		// 与起始值做比较
 		try {
 			open(1024);
 			firstPos = position();
@@ -1647,7 +1864,7 @@ public class BFileReader {
 			}
 		}
 		
-		// ֵȽ
+		// 与结束值做比较
 		try {
 			reopen(1024);
 			seek(firstPos);
@@ -1665,7 +1882,7 @@ public class BFileReader {
 				rec.values = vals;
 				if (Variant.compare(rec.calc(exp, ctx), startVal) >= 0) {
 					if (endVal != null && Variant.compare(rec.calc(exp, ctx), endVal) > 0) {
-						//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+						//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 						return new MemoryCursor(null);
 					}
 					
@@ -1700,7 +1917,7 @@ public class BFileReader {
 				cursor.setPosRange(startPos, endPos);
 				return cursor;
 			} else {
-				//return null; ĳɷؿα꣬cs.groups@t᷵ؿ
+				//return null; 改成返回空游标，这样cs.groups@t会返回空序表
 				return new MemoryCursor(null);
 			}
 		} catch (IOException e) {
@@ -1714,10 +1931,10 @@ public class BFileReader {
 	}
 	
 	/**
-	 * nطֶεֵÿ
-	 * @param list صÿ
-	 * @param values طֶεֵ
-	 * @param n ÿ
+	 * 根据n返回分段点值和每段条数
+	 * @param list 返回的每段条数
+	 * @param values 返回分段点值
+	 * @param n 期望的每段条数
 	 * @throws IOException 
 	 */
 	public void getSegmentInfo(ArrayList<Integer> list, Sequence values, int n) throws IOException {
@@ -1746,7 +1963,7 @@ public class BFileReader {
 			}
 		}
 		
-		list.add(sum);//һֶпֻһ
+		list.add(sum);//最后一个分段条数，有可能只有这一个
 		close();
 	}
 }
\ No newline at end of file
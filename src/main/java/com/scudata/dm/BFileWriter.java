@@ -2,58 +2,68 @@ package com.scudata.dm;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
+import com.scudata.array.IArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.cursor.ICursor;
 import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
+import com.scudata.util.Variant;
 
 /**
- * ļд
+ * 集文件写对象
  * @author WangXiaoJun
  *
  */
 public class BFileWriter {
-	public static int TYPE_BLOCK = 0x10; // ɷֶζȡļļ
-	public static int TYPE_NORMAL = 0x50; // ͨļûзֶϢ
-	public static int TYPE_GROUP = 0x70; // ĳֶεֵֶεļļֵͬĲᱻ
+	public static int TYPE_BLOCK = 0x10; // 可分段读取的集文件
+	public static int TYPE_NORMAL = 0x50; // 普通集文件没有分段信息
+	public static int TYPE_GROUP = 0x70; // 按某个字段的值分段的集文件，同值的不会被拆到两段
 	
-	public static final int BLOCKCOUNT = 1024; // 
-	public static final int MINBLOCKRECORDCOUNT = 1024; // ÿС¼
-	public static final String S_FIELDNAME = "_1"; // ʱĬϵֶ
+	public static final int BLOCKCOUNT = 1024; // 最大块数
+	public static final int MINBLOCKRECORDCOUNT = 1024; // 每块最小记录数
+	public static final String S_FIELDNAME = "_1"; // 导出序列时默认的字段名
 	
-	private FileObject file; // ļ
-	private boolean isAppend; // Ƿ׷дfalseḲеļ
-	private boolean isBlock; // ǷзֶϢļļ
+	private FileObject file; // 文件对象
+	private boolean isAppend; // 是否追加写，如果false则会覆盖已有的文件
+	private boolean isBlock; // 是否生成有分段信息的集文件
 	private RandomOutputStream ros;
-	private RandomObjectWriter writer; // д
-	private DataStruct ds; // ļݽṹ
+	private RandomObjectWriter writer; // 用于写出对象
+	private DataStruct ds; // 文件的数据结构
 	
-	private long []blocks; // ÿһĽλ
-	private int lastBlock; // һ
-	private long totalRecordCount; // ܼ¼
-	private long blockRecordCount; // ÿļ¼鵼ʱÿ
-	private long lastRecordCount; // һļ¼
+	private long []blocks; // 每一块的结束位置
+	private int lastBlock; // 最后一块的索引
+	private long totalRecordCount; // 总记录数
+	private long blockRecordCount; // 每块的记录数，按组导出时则是每块的组数
+	private long lastRecordCount; // 最后一块的记录数
 	
-	private long oldFileSize; // ׷дʱԴļСʱļָ
+	private long oldFileSize; // 追加写时源文件大小，如果出错时的文件恢复
+	
+	private boolean isFooter; // 是否在数据后面写每块首字段的最小值和最大值，只用于可分段的集文件
+	private boolean hasFooter; // 文件中是否已写了块信息，写文件头时用
+	private Object []minValues; // 每块首字段的最小值
+	private Object []maxValues; // 每块首字段的最大值
 	
 	/**
-	 * 켯ļд
-	 * @param file ļ
-	 * @param opt ѡa׷дzзֶϢļļ
+	 * 构造集文件写对象
+	 * @param file 文件对象
+	 * @param opt 选项，a：追加写，z：生成有分段信息的集文件，
+	 * m：可分段的集文件在数据后面记录每块首字段的最小值和最大值，用于iselect时不读数据就能定位块
 	 */
 	public BFileWriter(FileObject file, String opt) {
 		this.file = file;
 		if (opt != null) {
 			if (opt.indexOf('a') != -1) isAppend = true;
 			if (opt.indexOf('z') != -1) isBlock = true;
+			if (opt.indexOf('m') != -1) isFooter = true;
 		}
 	}
 	
 	/**
-	 * ʱǷɼļѡ
-	 * @param opt ѡbzʱɼļ
+	 * 导出时是否是生成集文件的选项
+	 * @param opt 选项里有b或者z时生成集文件
 	 * @return
 	 */
 	public static boolean isBtxOption(String opt) {
@@ -61,14 +71,14 @@ public class BFileWriter {
 	}
 	
 	/**
-	 * ļ
+	 * 返回文件对象
 	 * @return FileObject
 	 */
 	public FileObject getFile() {
 		return file;
 	}
 	
-	// дļͷ
+	// 写文件头
 	private void writeHeader(boolean isGroup) throws IOException {
 		RandomObjectWriter writer = this.writer;
 		writer.position(0);
@@ -80,7 +90,7 @@ public class BFileWriter {
 		
 		if (isGroup) {
 			writer.write(TYPE_GROUP);
-			writer.writeInt32(1); // 
+			writer.writeInt32(1); // 保留
 			writer.writeLong64(totalRecordCount);
 			writer.writeLong64(blockRecordCount);
 			writer.writeLong64(lastRecordCount);
@@ -93,7 +103,7 @@ public class BFileWriter {
 			}
 		} else if (isBlock) {
 			writer.write(TYPE_BLOCK);
-			writer.writeInt32(0); // 
+			writer.writeInt32(hasFooter ? 1 : 0); // 1表示数据后面有块信息
 			writer.writeLong64(totalRecordCount);
 			writer.writeLong64(blockRecordCount);
 			writer.writeLong64(lastRecordCount);
@@ -106,14 +116,14 @@ public class BFileWriter {
 			}
 		} else {
 			writer.write(TYPE_NORMAL);
-			writer.writeInt32(0); // 
+			writer.writeInt32(0); // 保留
 			writer.writeLong64(totalRecordCount);
 		}
 		
 		writer.writeStrings(ds.getFieldNames());
 	}
 	
-	// ļͷ
+	// 读文件头
 	private void readHeader(boolean isGroup) throws IOException {
 		InputStream is = ros.getInputStream(0);
 		if (is == null) {
@@ -145,6 +155,7 @@ public class BFileWriter {
 				}
 
 				isBlock = true;
+				isFooter = ver == 1; // 没有块信息的文件追加时也不写块信息
 				totalRecordCount = in.readLong64();
 				blockRecordCount = in.readLong64();
 				lastRecordCount = in.readLong64();
@@ -185,29 +196,31 @@ public class BFileWriter {
 	}
 	
 	/**
-	 * ļ׼д
-	 * @param ds Ҫдݵݽṹ
-	 * @param isGroup Ƿзֶ
+	 * 打开文件准备写
+	 * @param ds 要写入的数据的数据结构
+	 * @param isGroup 是否有分组字段
 	 * @throws IOException
 	 */
 	public void prepareWrite(DataStruct ds, boolean isGroup) throws IOException {
 		if (isAppend ) {
-			// жϴС
+			// 先锁定再判断大小
 			ros = file.getRandomOutputStream(true);
 			writer = new RandomObjectWriter(ros);
 			oldFileSize = file.size();
 			
 			if (oldFileSize > 0) {
 				readHeader(isGroup);
+				if (isBlock && isFooter && !isGroup) {
+					// 追加的数据会覆盖块信息，先改成没有块信息的文件，出错时截掉后面的部分即可恢复
+					oldFileSize = blocks[lastBlock];
+					readFooter(oldFileSize);
+					writeHeader(false);
+				}
+				
 				writer.position(oldFileSize);
 			} else {
 				if (isBlock) {
-					blocks = new long[BLOCKCOUNT];
-					if (isGroup) {
-						blockRecordCount = 1;
-					} else {
-						blockRecordCount = MINBLOCKRECORDCOUNT;
-					}
+					initBlocks(isGroup);
 				}
 				
 				this.ds = ds; 
@@ -218,12 +231,7 @@ public class BFileWriter {
 			writer = new RandomObjectWriter(ros);
 			oldFileSize = 0;
 			if (isBlock) {
-				blocks = new long[BLOCKCOUNT];
-				if (isGroup) {
-					blockRecordCount = 1;
-				} else {
-					blockRecordCount = MINBLOCKRECORDCOUNT;
-				}
+				initBlocks(isGroup);
 			}
 			
 			this.ds = ds; 
@@ -231,8 +239,91 @@ public class BFileWriter {
 		}
 	}
 	
+	private void initBlocks(boolean isGroup) {
+		blocks = new long[BLOCKCOUNT];
+		if (isGroup) {
+			blockRecordCount = 1;
+		} else {
+			blockRecordCount = MINBLOCKRECORDCOUNT;
+			if (isFooter) {
+				minValues = new Object[BLOCKCOUNT];
+				maxValues = new Object[BLOCKCOUNT];
+			}
+		}
+	}
+	
+	// 读取数据后面的块信息，用于追加写
+	private void readFooter(long pos) throws IOException {
+		ObjectReader in = new ObjectReader(file.getInputStream());
+		try {
+			in.seek(pos);
+			int count = in.readInt32();
+			Object []minValues = new Object[BLOCKCOUNT];
+			Object []maxValues = new Object[BLOCKCOUNT];
+			for (int i = 0; i < count; ++i) {
+				minValues[i] = in.readObject();
+				maxValues[i] = in.readObject();
+			}
+			
+			this.minValues = minValues;
+			this.maxValues = maxValues;
+		} finally {
+			in.close();
+		}
+		
+		hasFooter = false;
+	}
+	
+	// 在数据后面写出每块首字段的最小值和最大值
+	private void writeFooter() throws IOException {
+		RandomObjectWriter writer = this.writer;
+		int count = lastBlock + 1;
+		Object []minValues = this.minValues;
+		Object []maxValues = this.maxValues;
+		writer.writeInt32(count);
+		for (int i = 0; i < count; ++i) {
+			writer.writeObject(minValues[i]);
+			writer.writeObject(maxValues[i]);
+		}
+		
+		writer.flush();
+		hasFooter = true;
+	}
+	
+	// 用新写入记录的首字段值更新当前块的最小值和最大值
+	private void updateBlockValue(int block, boolean isFirst, Object value) {
+		if (isFirst) {
+			minValues[block] = value;
+			maxValues[block] = value;
+		} else if (Variant.compare(value, minValues[block], false) < 0) {
+			minValues[block] = value;
+		} else if (Variant.compare(value, maxValues[block], false) > 0) {
+			maxValues[block] = value;
+		}
+	}
+	
+	// 块数满了时相邻的两块合成一块，块的最小值和最大值也相应合并
+	private void mergeBlockValues(int count) {
+		Object []minValues = this.minValues;
+		Object []maxValues = this.maxValues;
+		for (int b = 0, j = 0; b < count; ++b, j += 2) {
+			Object min = minValues[j];
+			Object max = maxValues[j];
+			if (Variant.compare(minValues[j + 1], min, false) < 0) {
+				min = minValues[j + 1];
+			}
+			
+			if (Variant.compare(maxValues[j + 1], max, false) > 0) {
+				max = maxValues[j + 1];
+			}
+			
+			minValues[b] = min;
+			maxValues[b] = max;
+		}
+	}
+	
 	/**
-	 * дرļ
+	 * 写结束，关闭文件
 	 */
 	public void close() {
 		if (writer != null) {
@@ -244,7 +335,7 @@ public class BFileWriter {
 		}
 	}
 	
-	// ȡݵݽṹ
+	// 取数据的数据结构
 	private DataStruct getDataStruct(Sequence seq, Expression []exps, String []names) {
 		int fcount = exps.length;
 		String []tmps = new String[fcount];
@@ -256,7 +347,7 @@ public class BFileWriter {
 		return new DataStruct(tmps);
 	}
 	
-	// ֶε˳򣬸֮ǰĽṹ
+	// 调整字段的顺序，跟之前的结构对齐
 	private Expression[] adjustDataStruct(DataStruct ds, Expression []exps, String []names) {
 		DataStruct srcDs = this.ds;
 		if (srcDs.isCompatible(ds)) {
@@ -310,7 +401,7 @@ public class BFileWriter {
 		}
 	}
 
-	// ıļ洢ʽΪɷֶļ
+	// 改变文件存储格式为可分段文件
 	private void changeToSegmentFile(Context ctx) throws IOException {
 		Sequence seq = null;
 		BFileReader reader = new BFileReader(file);
@@ -321,16 +412,16 @@ public class BFileWriter {
 			reader.close();
 		}
 		
-		BFileWriter writer = new BFileWriter(file, "z");
+		BFileWriter writer = new BFileWriter(file, isFooter ? "zm" : "z");
 		writer.export(seq, null, null, ctx);
 	}
 	
 	/**
-	 * 
-	 * @param data 
-	 * @param exps ֶαʽ飬ʡ򵼳ֶ
-	 * @param names ֶ
-	 * @param ctx 
+	 * 导出数据
+	 * @param data 排列
+	 * @param exps 导出的字段表达式数组，省略则导出所有字段
+	 * @param names 字段名数组
+	 * @param ctx 计算上下文
 	 */
 	public void export(Sequence data, Expression []exps, String []names, Context ctx) {
 		if (data == null || data.length() == 0) {
@@ -366,6 +457,9 @@ public class BFileWriter {
 			adjustDataStruct(ds, exps, names);
 			if (isBlock) {
 				exportBlock(data, exps, ctx);
+				if (minValues != null) {
+					writeFooter();
+				}
 			} else {
 				exportNormal(data, exps, ctx);
 			}
@@ -385,11 +479,11 @@ public class BFileWriter {
 	}
 	
 	/**
-	 * 
-	 * @param cursor α
-	 * @param exps ֶαʽ飬ʡ򵼳ֶ
-	 * @param names ֶ
-	 * @param ctx 
+	 * 导出数据
+	 * @param cursor 游标
+	 * @param exps 导出的字段表达式数组，省略则导出所有字段
+	 * @param names 字段名数组
+	 * @param ctx 计算上下文
 	 */
 	public void export(ICursor cursor, Expression []exps, String []names, Context ctx) {
 		Sequence data = cursor.fetch(ICursor.FETCHCOUNT);
@@ -429,6 +523,10 @@ public class BFileWriter {
 					exportBlock(data, exps, ctx);
 					data = cursor.fetch(ICursor.FETCHCOUNT);
 				}
+				
+				if (minValues != null) {
+					writeFooter();
+				}
 			} else {
 				while (data != null && data.length() > 0) {
 					exportNormal(data, exps, ctx);
@@ -450,7 +548,61 @@ public class BFileWriter {
 		}
 	}
 	
-	// зֶϢĵ
+	/**
+	 * 把游标的数据按普通集文件的格式写到输出流，用于边计算边传输
+	 * 输出流不能回写文件头，文件头里的记录数写成0，读的时候读到数据结束为止
+	 * 字段按第一批数据确定，后面的数据结构不一致时抛出异常
+	 * @param cursor 游标
+	 * @param os 输出流，写完后不关闭
+	 * @throws IOException
+	 */
+	public static void exportStream(ICursor cursor, OutputStream os) throws IOException {
+		Sequence data = cursor.fetch(ICursor.FETCHCOUNT);
+		DataStruct ds = data == null || data.length() == 0 ? null : data.dataStruct();
+		String []names = ds == null ? new String[]{S_FIELDNAME} : ds.getFieldNames();
+		int fcount = names.length;
+		
+		ObjectWriter writer = new ObjectWriter(os);
+		writer.write('r');
+		writer.write('q');
+		writer.write('t');
+		writer.write('b');
+		writer.write('x');
+		writer.write(TYPE_NORMAL);
+		writer.writeInt32(0); // 保留
+		writer.writeLong64(0);
+		writer.writeStrings(names);
+		
+		while (data != null && data.length() > 0) {
+			IArray mems = data.getMems();
+			if (ds != null) {
+				// 文件头已经写出，后面每批数据都需要是和第一批结构一致的记录
+				DataStruct curDs = data.dataStruct();
+				if (curDs != ds && !ds.isCompatible(curDs)) {
+					MessageManager mm = EngineMessage.get();
+					throw new RQException(mm.getMessage("engine.dsNotMatch"));
+				}
+				
+				for (int i = 1, len = mems.size(); i <= len; ++i) {
+					Object []vals = ((BaseRecord)mems.get(i)).getFieldValues();
+					for (int f = 0; f < fcount; ++f) {
+						writer.writeObject(vals[f]);
+					}
+				}
+			} else {
+				// 单列的集文件，记录也作为成员值写出
+				for (int i = 1, len = mems.size(); i <= len; ++i) {
+					writer.writeObject(mems.get(i));
+				}
+			}
+			
+			data = cursor.fetch(ICursor.FETCHCOUNT);
+		}
+		
+		writer.flush();
+	}
+	
+	// 有分段信息的导出
 	private void exportBlock(Sequence data, Expression []exps, Context ctx) throws IOException {
 		RandomObjectWriter writer = this.writer;
 		long []blocks = this.blocks;
@@ -460,6 +612,7 @@ public class BFileWriter {
 		long lastRecordCount = this.lastRecordCount;
 		int fcount = ds.getFieldCount();
 		int len = data.length();
+		boolean isFooter = minValues != null;
 		
 		if (exps == null) {
 			boolean isTable = data.getMem(1) instanceof BaseRecord;
@@ -473,6 +626,10 @@ public class BFileWriter {
 						for (int b = 0, j = 1; b < lastBlock; ++b, j += 2) {
 							blocks[b] = blocks[j];
 						}
+						
+						if (isFooter) {
+							mergeBlockValues(lastBlock);
+						}
 					}
 				}
 				
@@ -483,8 +640,16 @@ public class BFileWriter {
 					for (int f = 0; f < fcount; ++f) {
 						writer.writeObject(vals[f]);
 					}
+					
+					if (isFooter) {
+						updateBlockValue(lastBlock, lastRecordCount == 1, vals[0]);
+					}
 				} else {
-					writer.writeObject(data.getMem(i));
+					Object val = data.getMem(i);
+					writer.writeObject(val);
+					if (isFooter) {
+						updateBlockValue(lastBlock, lastRecordCount == 1, val);
+					}
 				}
 			}
 		} else {
@@ -503,12 +668,22 @@ public class BFileWriter {
 							for (int b = 0, j = 1; b < lastBlock; ++b, j += 2) {
 								blocks[b] = blocks[j];
 							}
+							
+							if (isFooter) {
+								mergeBlockValues(lastBlock);
+							}
 						}
 					}
 					
 					lastRecordCount++;
 					current.setCurrent(i);
-					for (int f = 0; f < fcount; ++f) {
+					Object val = exps[0].calculate(ctx);
+					writer.writeObject(val);
+					if (isFooter) {
+						updateBlockValue(lastBlock, lastRecordCount == 1, val);
+					}
+					
+					for (int f = 1; f < fcount; ++f) {
 						writer.writeObject(exps[f].calculate(ctx));
 					}
 				}
@@ -524,7 +699,7 @@ public class BFileWriter {
 		this.lastRecordCount = lastRecordCount;
 	}
 	
-	// зϢĵ
+	// 有分组信息的导出
 	private void exportGroup(Sequence data, Expression []exps, Context ctx) throws IOException {
 		RandomObjectWriter writer = this.writer;
 		int fcount = ds.getFieldCount();
@@ -579,7 +754,7 @@ public class BFileWriter {
 		blocks[lastBlock] = writer.position();
 	}
 	
-	// ûзֶϢĵ
+	// 没有分段信息的导出
 	private void exportNormal(Sequence data, Expression []exps, Context ctx) throws IOException {
 		RandomObjectWriter writer = this.writer;
 		int fcount = ds.getFieldCount();
@@ -621,12 +796,12 @@ public class BFileWriter {
 	}
 
 	/**
-	 * 
-	 * @param cursor α
-	 * @param exps ֶαʽ飬ʡ򵼳ֶ
-	 * @param names ֶ
-	 * @param gexp ʽʹñʽؽͬļ¼ᱻ
-	 * @param ctx 
+	 * 导出数据
+	 * @param cursor 游标
+	 * @param exps 导出的字段表达式数组，省略则导出所有字段
+	 * @param names 字段名数组
+	 * @param gexp 分组表达式，使该表达式返回结果相同的记录不会被拆成两段
+	 * @param ctx 计算上下文
 	 */
 	public void export(ICursor cursor, Expression []exps, String []names, Expression gexp, Context ctx) {
 		Sequence data = cursor.fetchGroup(gexp, ctx);
@@ -672,7 +847,7 @@ public class BFileWriter {
 		}
 	}
 
-	// дֿļͷ
+	// 写不分块文件头
 	private static void writeHeader(ObjectWriter writer, DataStruct ds) throws IOException {
 		writer.write('r');
 		writer.write('q');
@@ -681,7 +856,7 @@ public class BFileWriter {
 		writer.write('x');
 		
 		writer.write(TYPE_NORMAL);
-		writer.writeInt32(0); // 
+		writer.writeInt32(0); // 保留
 		writer.writeLong64(0);
 		
 		if (ds != null) {
@@ -692,11 +867,11 @@ public class BFileWriter {
 	}
 
 	/**
-	 * ֿ
-	 * @param writer д
-	 * @param data 
-	 * @param ds ݵݽṹд
-	 * @param writeHeader Ƿдļͷ
+	 * 导出不分块序列
+	 * @param writer 写对象
+	 * @param data 数据
+	 * @param ds 数据的数据结构，空则当序列写出
+	 * @param writeHeader 是否写文件头
 	 * @throws IOException
 	 */
 	public static void export(ObjectWriter writer, Sequence data, 
@@ -723,11 +898,11 @@ public class BFileWriter {
 	}
 
 	/**
-	 * ֿα
-	 * @param writer д
-	 * @param cursor α
-	 * @param ds ݵݽṹд
-	 * @param writeHeader Ƿдļͷ
+	 * 导出不分块游标
+	 * @param writer 写对象
+	 * @param cursor 游标
+	 * @param ds 数据的数据结构，空则当序列写出
+	 * @param writeHeader 是否写文件头
 	 * @throws IOException
 	 */
 	public static void export(ObjectWriter writer, ICursor cursor, boolean writeHeader) throws IOException {
@@ -748,7 +923,7 @@ public class BFileWriter {
 	}
 	
 	/**
-	 * ֶεⲿƴ򿪹رļ
+	 * 不分段导出序表，由外部控制打开关闭文件
 	 * @param data
 	 * @throws IOException
 	 */
@@ -13,7 +13,7 @@ import com.scudata.util.Variant;
 
 public abstract class BaseRecord implements IComputeItem, Externalizable, IRecord, Comparable<BaseRecord> {
 	
-	/*½ӿڼ̳IComputeItemڼ*/
+	/*以下接口继承自IComputeItem，用于计算*/
 	public Object getCurrent() {
 		return this;
 	}
@@ -32,12 +32,12 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 		
 	public void popStack() {
 	}
-	/*Ͻӿڼ̳IComputeItemڼ*/
+	/*以上接口继承自IComputeItem，用于计算*/
 
 	/**
-	 * Լ¼ʽ
-	 * @param exp Expression ʽ
-	 * @param ctx Context Ļ
+	 * 针对记录计算表达式
+	 * @param exp Expression 计算表达式
+	 * @param ctx Context 计算上下文环境
 	 * @return Object
 	 */
 	public Object calc(Expression exp, Context ctx) {
@@ -55,8 +55,8 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 
 	/**
-	 * ¼Ƚhashֵͬr.v()
-	 * @param r ¼
+	 * 记录比较用hash值，相同再用r.v()
+	 * @param r 记录
 	 */
 	public int compareTo(BaseRecord r) {
 		if (r == this) {
@@ -103,17 +103,17 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 
 	/**
-	 * Ƚϼ¼ֶָεֵ
-	 * @param fields ֶ
-	 * @param fvalues ֵֶ
-	 * @return 1ǰ¼0ȣ-1ǰ¼С
+	 * 比较记录指定字段的值
+	 * @param fields 字段索引数组
+	 * @param fvalues 字段值数组
+	 * @return 1：当前记录大，0：相等，-1：当前记录小
 	 */
 	public abstract int compare(int []fields, Object []fvalues);
 	
 	/**
-	 * ֶָαȽϴС¼ݽṹͬ
+	 * 按指定字段比较大小，记录的数据结构必须相同？
 	 * @param r BaseRecord
-	 * @param fields int[] ֶ
+	 * @param fields int[] 字段索引
 	 * @return int
 	 */
 	public int compare(BaseRecord r, int []fields) {
@@ -134,9 +134,9 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 	
 	/**
-	 * ֶָαȽϴС¼ݽṹͬ
+	 * 按指定字段比较大小，记录的数据结构必须相同？
 	 * @param r BaseRecord
-	 * @param field ֶ
+	 * @param field 字段索引
 	 * @return int
 	 */
 	public int compare(BaseRecord r, int field) {
@@ -144,97 +144,97 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 
 	/**
-	 * ֵֶȽ¼ĴС¼ݽṹͬ
-	 * @param r ¼
-	 * @return 1ǰ¼0ȣ-1ǰ¼С
+	 * 按字段值比较两条记录的大小，记录的数据结构必须相同
+	 * @param r 记录
+	 * @return 1：当前记录大，0：相等，-1：当前记录小
 	 */
 	public abstract int compare(BaseRecord r);
 	
 	/**
-	 * Ѽ¼ֶָָԪȽ
-	 * @param field ֶ
-	 * @param values ֵֶ
-	 * @param index ֵֶ
-	 * @return 1ǰ¼0ȣ-1ǰ¼С
+	 * 把记录的指定字段与指定数组的元素相比较
+	 * @param field 字段索引
+	 * @param values 字段值数组
+	 * @param index 字段值数组的索引
+	 * @return 1：当前记录大，0：相等，-1：当前记录小
 	 */
 	public int compare(int field, IArray values, int index) {
 		return Variant.compare(getFieldValue(field), values.get(index), true);
 	}
 	
 	/**
-	 * ؼ¼Ľṹ
+	 * 返回记录的结构
 	 * @return DataStruct
 	 */
 	public abstract DataStruct dataStruct();
 	
 	/**
-	 * ֶεĿ
-	 * @return ֶ
+	 * 返回字段的数目
+	 * @return 字段数
 	 */
 	public abstract int getFieldCount();
 	
 	/**
-	 * ֶεαֶδӷαֶεĿʼֶβ򷵻-1
-	 * @param name ֶ
-	 * @return ֶ0ʼ
+	 * 返回字段的索引，伪字段从非伪字段的数目开始计数，如果字段不存在则返回-1
+	 * @param name 字段名
+	 * @return 字段索引，从0开始计数
 	 */
 	public int getFieldIndex(String name) {
 		return dataStruct().getFieldIndex(name);
 	}
 
 	/**
-	 * ؼ¼ֶ
-	 * @return ֶ
+	 * 返回记录所有字段名
+	 * @return 字段名数组
 	 */
 	public String[] getFieldNames() {
 		return dataStruct().getFieldNames();
 	}
 
 	/**
-	 * ĳһֶεֵ
-	 * @param index ֶ0ʼ
+	 * 返回某一字段的值
+	 * @param index 字段索引，从0开始计数
 	 * @return Object
 	 */
 	public abstract Object getFieldValue(int index);
 
 	/**
-	 * ĳһֶεֵ
-	 * @param name ֶ
+	 * 返回某一字段的值
+	 * @param name 字段名
 	 * @return Object
 	 */
 	public abstract Object getFieldValue(String name);
 	
 	/**
-	 * ȡֵֶֶβڷؿգ˷Ϊֽ֧ṹ
-	 * @param index ֶţ0ʼ
+	 * 取字段值，字段不存在返回空，此方法为了支持结构不纯的排列
+	 * @param index 字段序号，从0开始计数
 	 * @return Object
 	 */
 	public abstract Object getFieldValue2(int index);
 
 	/**
-	 * ֶεֵ
-	 * @return ֵֶ
+	 * 返回所有字段的值
+	 * @return 字段值数组
 	 */
 	public abstract Object[] getFieldValues();
 	
 	/**
-	 * ȡֵֶ߽
-	 * @param index ֶţ0ʼ
+	 * 取字段值，不做边界检查
+	 * @param index 字段序号，从0开始计数
 	 * @return Object
 	 */
 	public abstract Object getNormalFieldValue(int index);
 	
 	/**
-	 * ȡֵֶ߽
-	 * @param index ֶţ0ʼ
-	 * @param out ڴŽ㹻ж
+	 * 取字段值，不做边界检查
+	 * @param index 字段序号，从0开始计数
+	 * @param out 用于存放结果，容量足够不在做容量判断
 	 */
 	public abstract void getNormalFieldValue(int index, IArray out);
 	
 	/**
-	 * ֶָε
-	 * @param f ֶ0ʼ
-	 * @param len 鳤
+	 * 创建指定字段的数组
+	 * @param f 字段索引，从0开始计数
+	 * @param len 数组长度
 	 * @return IArray
 	 */
 	public IArray createFieldValueArray(int f, int len) {
@@ -242,15 +242,15 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 	
 	/**
-	 * ڽṹеûж򷵻ؿ
-	 * @return 
+	 * 返回主键在结构中的索引，没有定义主键则返回空
+	 * @return 主键索引数组
 	 */
 	public int[] getPKIndex() {
 		return dataStruct().getPKIndex();
 	}
 	
 	/**
-	 * ؼ¼ɵУû쳣
+	 * 返回记录的主键或多主键构成的序列，没有主键抛异常
 	 * @return Object
 	 */
 	public Object getPKValue() {
@@ -289,12 +289,12 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 	
 	/**
-	 * ؼ¼ֵr.v()
-	 * @return 򷵻ֵ򷵻ֶιɵ
+	 * 返回记录的值r.v()
+	 * @return 如果设置了主键则返回主键值，否则返回所有字段构成的序列
 	 */
 	public Object value() {
-		// лᵼѭ
-		// ֶָθΪȡ
+		// 如果外键有环会导致死循环？
+		// 指引字段改为取主键？
 		DataStruct ds = dataStruct();
 		int []pkIndex = ds.getPKIndex();
 		if (pkIndex == null) {
@@ -345,30 +345,30 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 	
 	/**
-	 * ؼ¼Ƿʱ
-	 * @return trueʱ
+	 * 返回记录是否有时间键
+	 * @return true：有时间键
 	 */
 	public boolean hasTimeKey() {
 		return dataStruct().getTimeKeyCount() > 0;
 	}
 
 	/**
-	 * ֵֶȽ¼Ƿȣ¼ݽṹͬ
-	 * @param r ҪȽϵļ¼
-	 * @return boolean true
+	 * 按字段值比较两条记录是否相等，记录的数据结构必须相同？
+	 * @param r 要比较的记录
+	 * @return boolean true：相等
 	 */
 	public abstract boolean isEquals(BaseRecord r);
 	
 	/**
-	 * ж¼ֶָǷ
-	 * @param r ҪȽϵļ¼
-	 * @param index ֶ
-	 * @return boolean true
+	 * 判断两记录的指定字段是否相等
+	 * @param r 要比较的记录
+	 * @param index 字段索引
+	 * @return boolean true：相等
 	 */
 	public abstract boolean isEquals(BaseRecord r, int []index);
 	
 	/**
-	 * Żʱʹãжڵļ¼ݽṹǷͬ
+	 * 优化时使用，判断相邻的记录的数据结构是否相同
 	 * @param cur
 	 * @return
 	 */
@@ -377,7 +377,7 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 
 	/**
-	 * ؼ¼ɵУûʱؿ
+	 * 返回记录的主键或多主键构成的序列，没有主键时返回空
 	 * @return Object
 	 */
 	public Object key() {
@@ -415,39 +415,39 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 
 	/**
-	 * ޸ļ¼ֵֶ
-	 * @param exps ֵʽ
-	 * @param fields ֶ
-	 * @param ctx 
+	 * 修改记录的字段值
+	 * @param exps 值表达式数组
+	 * @param fields 字段名数组
+	 * @param ctx 计算上下文
 	 */
 	public abstract void modify(Expression[] exps, String[] fields, Context ctx);
 	
 	/**
-	 * Դ¼ֵֶǰ¼
-	 * @param sr Դ¼
-	 * @param isName Ƿֶи
+	 * 把源记录的字段值赋给当前记录
+	 * @param sr 源记录
+	 * @param isName 是否按字段名进行复制
 	 */
 	public abstract void paste(BaseRecord sr, boolean isName);
 	
 	/**
-	 * еԪθǰ¼
-	 * @param sequence ֵ
+	 * 把序列的元素依次赋给当前记录
+	 * @param sequence 值序列
 	 */
 	public abstract void paste(Sequence sequence);
 	
 	/**
-	 * еԪθǰ¼
-	 * @param sequence ֵ
-	 * @param start еʼλ
+	 * 把序列的元素依次赋给当前记录
+	 * @param sequence 值序列
+	 * @param start 序列的起始位置
 	 */
 	public abstract void paste(Sequence sequence, int start);
 	
 	/**
-	 * Լ¼ݹѯ
-	 * @param field ֶ
-	 * @param p ָռ¼
-	 * @param maxLevel Ĳ
-	 * @return ü¼ɵ
+	 * 对记录的外键做递归查询
+	 * @param field 外键字段名
+	 * @param p 指向的最终记录
+	 * @param maxLevel 遍历最大的层次
+	 * @return 引用记录构成的序列
 	 */
 	public Sequence prior(String field, BaseRecord p, int maxLevel) {
 		int f = getFieldIndex(field);
@@ -460,11 +460,11 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 	
 	/**
-	 * Լ¼ݹѯ
-	 * @param f ֶţ0ʼ
-	 * @param p ָռ¼
-	 * @param maxLevel Ĳ
-	 * @return ü¼ɵ
+	 * 对记录的外键做递归查询
+	 * @param f 外键字段序号，从0开始计数
+	 * @param p 指向的最终记录
+	 * @param maxLevel 遍历最大的层次
+	 * @return 引用记录构成的序列
 	 */
 	public Sequence prior(int f, BaseRecord p, int maxLevel) {
 		if (this == p) {
@@ -509,9 +509,9 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 	
 	/**
-	 * ʽ
-	 * @param exp ʽ
-	 * @param ctx 
+	 * 计算表达式
+	 * @param exp 计算表达式
+	 * @param ctx 计算上下文
 	 */
 	public void run(Expression exp, Context ctx) {
 		if (exp == null) {
@@ -528,10 +528,10 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 
 	/**
-	 * Լ¼ʽиֵ
-	 * @param assignExps ֵʽ
-	 * @param exps ֵʽ
-	 * @param ctx 
+	 * 针对记录计算表达式并进行赋值
+	 * @param assignExps 赋值表达式数组
+	 * @param exps 值表达式数组
+	 * @param ctx 计算上下文
 	 */
 	public void run(Expression[] assignExps, Expression[] exps, Context ctx) {
 		if (exps == null || exps.length == 0) return;
@@ -560,71 +560,71 @@ public abstract class BaseRecord implements IComputeItem, Externalizable, IRecor
 	}
 
 	/**
-	 * ֶָεֵ
-	 * @param index ֶ0ʼ
-	 * @param val ֵֶ
+	 * 设置指定字段的值
+	 * @param index 字段索引，从0开始计数
+	 * @param val 字段新值
 	 */
 	public abstract void set(int index, Object val);
 
 	/**
-	 * ֶָεֵ
-	 * @param name ֶ
-	 * @param val ֵֶ
+	 * 设置指定字段的值
+	 * @param name 字段名
+	 * @param val 字段新值
 	 */
 	public abstract void set(String name, Object val);
 
 	/**
-	 * ָ¼ֶεֵǰ¼¼ֶͬ
-	 * @param r ¼
+	 * 把指定记录各字段的值依次设给当前记录，记录字段数需相同
+	 * @param r 记录
 	 */
 	public abstract void set(BaseRecord r);
 	
 	/**
-	 * ֵֶ߽
-	 * @param index ֶţ0ʼ
-	 * @param val ֵֶ
+	 * 设置字段值，不做边界检查
+	 * @param index 字段序号，从0开始计数
+	 * @param val 字段值
 	 */
 	public abstract void setNormalFieldValue(int index, Object val);
 	
 	/**
-	 * ֵֶֶβڲκδ
-	 * @param index ֶ0ʼκδ
-	 * @param val ֵֶ
+	 * 设置字段值，如果字段不存在不做任何处理
+	 * @param index 字段索引，从0开始计数，如果超界则不做任何处理
+	 * @param val 字段新值
 	 */
 	public abstract void set2(int index, Object val);
 	
 	/**
-	 * ֵֶָοʼǰ¼
-	 * @param index ֶ0ʼ
-	 * @param objs ֵֶ
+	 * 把数组的值从指定字段开始依次设给当前记录
+	 * @param index 字段索引，从0开始计数
+	 * @param objs 字段值数组
 	 */
 	public abstract void setStart(int index, Object []objs);
 	
 	/**
-	 * ֵֶָοʼǰ¼
-	 * @param index ֶ0ʼ
-	 * @param objs ֵֶ
-	 * @param len ֵֶ
+	 * 把数组的值从指定字段开始依次设给当前记录
+	 * @param index 字段索引，从0开始计数
+	 * @param objs 字段值数组
+	 * @param len 赋值的字段数
 	 */
 	public abstract void setStart(int index, Object []objs, int len);
 	
 	/**
-	 * Ѽ¼ֵֶָοʼǰ¼
-	 * @param index ֶ0ʼ
-	 * @param r ¼
+	 * 把记录的值从指定字段开始依次设给当前记录
+	 * @param index 字段索引，从0开始计数
+	 * @param r 记录
 	 */
 	public abstract void setStart(int index, BaseRecord r);
 	
 	/**
-	 * ǰ¼Ŀıֶתִ
-	 * @param opt t'\t'ֶָΣȱʡöţqԱʱţȱʡᴦ
-	 * fתrֵֶֶ
+	 * 将当前记录的可文本化字段转成字串
+	 * @param opt t：用'\t'分隔字段，缺省用逗号，q：串成员接入时加上引号，缺省不会处理，
+	 * f：仅转换r的字段名而非字段值
 	 * @return String
 	 */
 	public abstract String toString(String opt);
 	
 	/**
-	 * ѵǰ¼תRecord͵ļ¼Recordֱӷ
+	 * 把当前记录转成Record型的记录，如果本事是Record型则直接返回
 	 * @return Record
 	 */
 	public abstract Record toRecord();
@@ -4,30 +4,30 @@ import java.io.IOException;
 import java.io.InputStream;
 
 /**
- * ̶Сȡݵ
+ * 按固定块大小读取数据的输入流
  * @author WangXiaoJun
  *
  */
 public class BlockInputStream extends InputStream {
 	protected InputStream is;
-	protected byte []buffer; // 
-	protected volatile int count; // ʵʶֽ
+	protected byte []buffer; // 缓冲区
+	protected volatile int count; // 缓冲区实际读入的字节数
 
 	protected IOException e;
 	protected boolean isClosed;
 
 	/**
-	 * 
-	 * @param is 
+	 * 构建按块读入的输入流
+	 * @param is 输入流
 	 */
 	public BlockInputStream(InputStream is) {
 		this(is, Env.getFileBufSize());
 	}
 
 	/**
-	 * 
-	 * @param is 
-	 * @param bufSize ĿС
+	 * 构建按块读入的输入流
+	 * @param is 输入流
+	 * @param bufSize 读入的块大小
 	 */
 	public BlockInputStream(InputStream is, int bufSize) {
 		this.is = is;
@@ -37,7 +37,7 @@ public class BlockInputStream extends InputStream {
 		InputStreamManager.getInstance().read(this);
 	}
 
-	// ݵ
+	// 读入数据到缓冲区
 	void fillBuffers() {
 		synchronized(is) {
 			if (!isClosed) {
@@ -61,14 +61,14 @@ public class BlockInputStream extends InputStream {
 	}
 
 	/**
-	 * ִ֧˷̶ֻܰ
+	 * 不支持此方法，只能按固定块读
 	 */
 	public int read() throws IOException {
 		throw new IOException("read not supported");
 	}
 
 	/**
-	 * bĳȱͻͬ
+	 * b的长度必须和缓冲区长度相同
 	 * @param b byte[]
 	 * @throws IOException
 	 * @return int
@@ -78,7 +78,7 @@ public class BlockInputStream extends InputStream {
 	}
 
 	/**
-	 * lenͻͬ
+	 * len必须和缓冲区长度相同
 	 * @param b byte[]
 	 * @param off int
 	 * @param len int
@@ -128,9 +128,9 @@ public class BlockInputStream extends InputStream {
 	}
 
 	/**
-	 * ָֽ
-	 * @param n ֽ
-	 * @return long ʵֽ
+	 * 跳过指定字节
+	 * @param n 字节数
+	 * @return long 实际跳过的字节数
 	 */
 	public long skip(long n) throws IOException {
 		if (n < 1) return -1;
@@ -166,7 +166,7 @@ public class BlockInputStream extends InputStream {
 	}
 
 	/**
-	 * ػжٿãжٿ
+	 * 返回缓冲区还有多少可用，不是整个输入流还有多少可用
 	 * @return int
 	 */
 	public int available() throws IOException {
@@ -184,7 +184,7 @@ public class BlockInputStream extends InputStream {
 	}
 
 	/**
-	 * ر
+	 * 关闭输入流
 	 */
 	public void close() throws IOException {
 		synchronized(is) {
@@ -4,7 +4,7 @@ import com.scudata.common.MessageManager;
 import com.scudata.resources.ParallelMessage;
 
 /**
- * ҵȡ쳣
+ * 作业被取消后引起的异常
  * @author Joancy
  *
  */
@@ -17,31 +17,31 @@ public class CanceledException extends RuntimeException {
 	public static String TYPE_OTHER = "Canceled by other task.";
 	
 	/**
-	 * ȱʡ캯
+	 * 缺省构造函数
 	 */
 	public CanceledException() {
 	}
 
 	/**
-	 * 캯
-	 * @param msg ȡԭ
+	 * 构造函数
+	 * @param msg 取消原因
 	 */
 	public CanceledException(String msg) {
 		super(msg);
 	}
 
 	/**
-	 * 캯
-	 * @param msg ȡԭ
-	 * @param cause 쳣
+	 * 构造函数
+	 * @param msg 取消原因
+	 * @param cause 引起错误的异常
 	 */
 	public CanceledException(String msg, Throwable cause) {
 		super(msg, cause);
 	}
 
 	/**
-	 * 캯
-	 * @param cause 쳣
+	 * 构造函数
+	 * @param cause 引起错误的异常
 	 */
 	public CanceledException(Throwable cause) {
 		super(cause);
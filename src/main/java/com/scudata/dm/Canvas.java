@@ -6,7 +6,7 @@ import com.scudata.chart.*;
 import com.scudata.common.*;
 
 /**
- * 
+ * 画布类
  * 
  * @author Joancy
  *
@@ -18,23 +18,23 @@ public class Canvas implements ICloneable, Externalizable, IRecord {
   private transient String htmlLinks=null;
   
   /**
-   * һȱʡ
+   * 构造一个缺省画布
    */
   public Canvas() {
   }
 
   /**
-   * ȡͼhtml
-   * @return 
+   * 获取图画里面的html超链接
+   * @return 超链接
    */
   public String getHtmlLinks(){
-	  //ȵüͼΣΪҪȡӦwhûʱҪ
+	  //必须先调用计算图形，因为要获取相应的w，h，所以没计算过时要报错。
 	  if( htmlLinks==null) throw new RQException("You should call G.draw(w,h) before call G.hlink().");
 	  return htmlLinks;
   }
   
   /**
-   * û
+   * 设置画布名称
    * @param name
    */
   public void setName(String name) {
@@ -42,7 +42,7 @@ public class Canvas implements ICloneable, Externalizable, IRecord {
   }
 
   /**
-   * ȡ
+   * 取画布名称
    * @return
    */
   public String getName() {
@@ -50,31 +50,31 @@ public class Canvas implements ICloneable, Externalizable, IRecord {
   }
 
   /**
-   * һͼԪ
-   * @param elem  ͼԪбʾ
+   * 增加一个图元
+   * @param elem  图元的序列表示
    */
   public void addChartElement(Sequence elem) {
 	chartElements.add(elem);
   }
 
   /**
-   * ȡͼԪ
-   * @return ͼԪбʾ
+   * 获取所有图元
+   * @return 图元序列表示的序列
    */
   public Sequence getChartElements(){
     return chartElements;
   }
 
   /**
-   * ͼԪ
-   * @param elements ͼԪ
+   * 设置所有图元序列
+   * @param elements 图元序列
    */
   public void setChartElements(Sequence elements){
     chartElements=elements;
   }
 
   /**
-   * ͼԪ
+   * 清除图元
    */
   public void clear() {
 	chartElements.clear();
@@ -84,52 +84,52 @@ public class Canvas implements ICloneable, Externalizable, IRecord {
 	Engine e = new Engine(this.getChartElements());
 	byte[] bytes = e.calcImageBytes(w, h, fmt);
 	htmlLinks = e.getHtmlLinks();
-	if( htmlLinks==null ) htmlLinks="";//nullʾûм㣬ձʾˣûж峬
+	if( htmlLinks==null ) htmlLinks="";//null表示没有计算，空表示计算了，但是没有定义超链接
 	return bytes;
   }
 
   /**
-   * svgʽ
-   * @param w 
-   * @param h ߶
-   * @return svgͼֽ
+   * 将画布生成svg格式数据
+   * @param w 宽度
+   * @param h 高度
+   * @return svg图形字节数据
    */
   public byte[] toSVG(int w, int h) { //Utf-8
 	return getImageBytes(w, h, Consts.IMAGE_SVG);
   }
 
   /**
-   * jpgʽ
-   * @param w 
-   * @param h ߶
-   * @return jpgͼֽ
+   * 将画布生成jpg格式数据
+   * @param w 宽度
+   * @param h 高度
+   * @return jpg图形字节数据
    */
   public byte[] toJpg(int w, int h) {
 	return getImageBytes(w, h, Consts.IMAGE_JPG);
   }
 
   /**
-   * pngʽ
-   * @param w 
-   * @param h ߶
-   * @return pngͼֽ
+   * 将画布生成png格式数据
+   * @param w 宽度
+   * @param h 高度
+   * @return png图形字节数据
    */
   public byte[] toPng(int w, int h) {
 	return getImageBytes(w, h, Consts.IMAGE_PNG);
   }
 
   /**
-   * gifʽ
-   * @param w 
-   * @param h ߶
-   * @return gifͼֽ
+   * 将画布生成gif格式数据
+   * @param w 宽度
+   * @param h 高度
+   * @return gif图形字节数据
    */
   public byte[] toGif(int w, int h) {
 	return getImageBytes(w, h, Consts.IMAGE_GIF);
   }
 
   /**
-   * ʵtoStringı
+   * 实现toString的文本描述
    */
   public String toString(){
 	  StringBuffer sb = new StringBuffer();
@@ -139,8 +139,8 @@ public class Canvas implements ICloneable, Externalizable, IRecord {
   }
   
   /**
-   * ¡
-   * @return ¡Ļ
+   * 克隆画布对象
+   * @return 克隆的画布
    */
   public Object deepClone(){
 	  Canvas canvas = new Canvas();
@@ -149,8 +149,8 @@ public class Canvas implements ICloneable, Externalizable, IRecord {
   }
 
   /**
-   * дݵ
-   * @param out ObjectOutput 
+   * 写内容到流
+   * @param out ObjectOutput 输出流
    * @throws IOException
    */
   public void writeExternal(ObjectOutput out) throws IOException {
@@ -159,8 +159,8 @@ public class Canvas implements ICloneable, Externalizable, IRecord {
   }
 
   /**
-   * ж
-   * @param in ObjectInput 
+   * 从流中读内容
+   * @param in ObjectInput 输入流
    * @throws IOException
    * @throws ClassNotFoundException
    */
@@ -170,7 +170,7 @@ public class Canvas implements ICloneable, Externalizable, IRecord {
   }
 
   /**
-   * ʵIRecordӿ
+   * 实现IRecord接口
    */
   public byte[] serialize() throws IOException{
 	  ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -179,7 +179,7 @@ public class Canvas implements ICloneable, Externalizable, IRecord {
   }
 
   /**
-   * ʵIRecordӿ
+   * 实现IRecord接口
    */
   public void fillRecord(byte[] buf) throws IOException, ClassNotFoundException {
 	  ByteArrayInputRecord in = new ByteArrayInputRecord(buf);
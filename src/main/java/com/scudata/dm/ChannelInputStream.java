@@ -6,7 +6,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 
 /**
- * FileChannel
+ * 由FileChannel创建的输入流
  * @author WangXiaoJun
  *
  */
@@ -14,7 +14,7 @@ public class ChannelInputStream extends InputStream {
 	private FileChannel channel;
 
 	/**
-	 * ChannelInputStream
+	 * 构建ChannelInputStream
 	 * @param channel FileChannel
 	 */
 	public ChannelInputStream(FileChannel channel) {
@@ -22,14 +22,14 @@ public class ChannelInputStream extends InputStream {
 	}
 
 	/**
-	 * ְֻ֧ȡ
+	 * 只支持按块读取
 	 */
 	public int read() throws IOException {
 		throw new IOException("read not supported");
 	}
 
 	/**
-	 * bĳȱͻͬ
+	 * b的长度必须和缓冲区长度相同
 	 * @param b byte[]
 	 * @throws IOException
 	 * @return int
@@ -39,7 +39,7 @@ public class ChannelInputStream extends InputStream {
 	}
 
 	/**
-	 * lenͻͬ
+	 * len必须和缓冲区长度相同
 	 * @param b byte[]
 	 * @param off int
 	 * @param len int
@@ -59,8 +59,8 @@ public class ChannelInputStream extends InputStream {
 	}
 
 	/**
-	 * ָֽ
-	 * @param n ֽ
+	 * 跳过指定的字节
+	 * @param n 字节数
 	 */
 	public long skip(long n) throws IOException {
 		channel.position(channel.position() + n);
@@ -68,14 +68,14 @@ public class ChannelInputStream extends InputStream {
 	}
 
 	/**
-	 * ؿõֽ
+	 * 返回可用的字节数
 	 */
 	public int available() throws IOException {
 		return (int)(channel.size() - channel.position());
 	}
 
 	/**
-	 * ر
+	 * 关闭输入流
 	 */
 	public void close() throws IOException {
 	}
@@ -16,7 +16,7 @@ public class CompressIndexTable extends IndexTable {
 	//private Object keys[];
 	private int size;
 	private boolean isInteger;
-	private boolean isOrder;//findex˳ԭ
+	private boolean isOrder;//findex里的顺序就是原序
 	
 	private int []hashCol;
 	protected HashUtil hashUtil;
@@ -28,7 +28,7 @@ public class CompressIndexTable extends IndexTable {
 		//keys = new Object[1];
 		size = mems.size();
 
-		//жǷfindex˳ǷȻ˳
+		//判断是否findex里的顺序是否就是自然顺序
 		isOrder = true;
 		fcount = findex.length;
 		for (int f = 0; f < fcount; ++f) {
@@ -38,7 +38,7 @@ public class CompressIndexTable extends IndexTable {
 			}
 		}
 		
-		//жǷint
+		//判断是否都是int列
 		isInteger = true;
 		for (int f = 0; f < fcount; ++f) {
 			Column col = columns[findex[f]];
@@ -106,7 +106,7 @@ public class CompressIndexTable extends IndexTable {
 			if (val == null) return 0;
 			int right = ((Integer)val);
 
-			//ǶȻʱŻ
+			//这是对连续自然数时的优化
 //			int target = right - firstVal + 1;
 //			if(target > 0 && target <= high) {
 //				int left = intCol.getValue(target);
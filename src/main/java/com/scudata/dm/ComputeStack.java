@@ -3,17 +3,17 @@ package com.scudata.dm;
 import java.util.NoSuchElementException;
 
 /**
- * ջ
+ * 计算堆栈
  * @author WangXiaoJun
  *
  */
 public class ComputeStack {
-	private LinkEntry<IComputeItem> stackHead; // ڼеС¼ɶջ
-	private LinkEntry<Current> argHead; // evalõĲջ
+	private LinkEntry<IComputeItem> stackHead; // 正在计算中的序列、记录等组成堆栈
+	private LinkEntry<Current> argHead; // eval函数用到的参数堆栈
 	
 	/**
-	 * Ѳѹջ
-	 * @param value Sequence ?ֵ
+	 * 把参数压栈
+	 * @param value Sequence ?参数的值
 	 */
 	public void pushArg(Sequence value) {
 		if (value != null) {
@@ -24,7 +24,7 @@ public class ComputeStack {
 	}
 
 	/**
-	 * Ѳջ
+	 * 把参数出栈
 	 */
 	public void popArg() {
 		if (argHead != null) {
@@ -35,7 +35,7 @@ public class ComputeStack {
 	}
 
 	/**
-	 * ȡ"arg"ֵ
+	 * 取参数"arg"的值
 	 * @return BaseSequence.Current
 	 */
 	public Current getArg() {
@@ -47,14 +47,14 @@ public class ComputeStack {
 	}
 
 	/**
-	 * ѹջA.(...), r.(...)
+	 * 将对象压栈，A.(...), r.(...)
 	 * @param obj IComputeItem
 	 */
 	public void push(IComputeItem obj) {
 		stackHead = new LinkEntry<IComputeItem>(obj, stackHead);
 	}
 
-	// ȡеĵǰԪֵ
+	// 取序列的当前元素值
 	public Object getCurrentValue(Sequence seq) {
 		for (LinkEntry<IComputeItem> entry = stackHead; entry != null; entry = entry.getNext()) {
 			IComputeItem item = entry.getElement();
@@ -81,7 +81,7 @@ public class ComputeStack {
 		return null;
 	}
 
-	// еĵǰ
+	// 返回序列的当前索引
 	public int getCurrentIndex(Sequence seq) {
 		for (LinkEntry<IComputeItem> entry = stackHead; entry != null; entry = entry.getNext()) {
 			IComputeItem item = entry.getElement();
@@ -94,7 +94,7 @@ public class ComputeStack {
 	}
 
 	/**
-	 * ջĶջ
+	 * 将栈顶的对象出栈
 	 */
 	public void pop() {
 		if (stackHead != null) {
@@ -106,7 +106,7 @@ public class ComputeStack {
 	}
 
 	/**
-	 * ȡջĶ
+	 * 取栈顶的对象
 	 * @return IComputeItem
 	 */
 	public IComputeItem getTopObject() {
@@ -118,7 +118,7 @@ public class ComputeStack {
 	}
 
 	/**
-	 * ȡ˵
+	 * 取最顶端的序列
 	 * @return Sequence
 	 */
 	public Sequence getTopSequence() {
@@ -129,12 +129,12 @@ public class ComputeStack {
 			}
 		}
 		
-		// ִе
+		// 不会执行到这里
 		throw new NoSuchElementException();
 	}
 	
 	/**
-	 * ȡ˵м
+	 * 取最顶端的序列计算对象
 	 * @return Sequence
 	 */
 	public Current getTopCurrent() {
@@ -145,12 +145,12 @@ public class ComputeStack {
 			}
 		}
 		
-		// ִе
+		// 不会执行到这里
 		throw new NoSuchElementException();
 	}
 	
 	/**
-	 * ж϶Ƿջ
+	 * 判断对象是否在栈中
 	 * @param obj IComputeItem
 	 * @return boolean
 	 */
@@ -165,7 +165,7 @@ public class ComputeStack {
 	}
 
 	/**
-	 * ضջǷ
+	 * 返回堆栈是否空
 	 * @return boolean
 	 */
 	public boolean isStackEmpty() {
@@ -177,14 +177,14 @@ public class ComputeStack {
 	}
 
 	/**
-	 * ռջ
+	 * 清空计算堆栈
 	 */
 	public void clearStackList() {
 		stackHead = null;
 	}
 
 	/**
-	 * argջ
+	 * 清空arg堆栈
 	 */
 	public void clearArgStackList() {
 		argHead = null;
@@ -8,39 +8,39 @@ import com.scudata.common.DBSession;
 import com.scudata.common.ISessionFactory;
 
 /**
- * õ
+ * 计算用到的上下文
  * @author WangXiaoJun
  *
  */
 public class Context {
-	private Context parent; // 
-	private JobSpace js; // ҵռ
-	private Map<String, DBSession> dbSessions = new HashMap<String, DBSession>();// DBSessionӳ
-	private Map<String, ISessionFactory> dbsfs = new HashMap<String, ISessionFactory>(); // ISessionFactoryӳ
+	private Context parent; // 父上下文
+	private JobSpace js; // 作业空间
+	private Map<String, DBSession> dbSessions = new HashMap<String, DBSession>();// DBSession映射
+	private Map<String, ISessionFactory> dbsfs = new HashMap<String, ISessionFactory>(); // ISessionFactory映射
 
-	private ParamList paramList = new ParamList(); // б
-	private ComputeStack computeStack = new ComputeStack(); // ջ
-	private String defDsName; // ȱʡݿ
+	private ParamList paramList = new ParamList(); // 变量列表
+	private ComputeStack computeStack = new ComputeStack(); // 计算堆栈
+	private String defDsName; // 缺省数据库链接名称
 
-	private Random random; // ֵ
-	private Param iterateParam = new Param(KeyWord.ITERATEPARAM, Param.VAR, null); // 
+	private Random random; // 用于生成随机值
+	private Param iterateParam = new Param(KeyWord.ITERATEPARAM, Param.VAR, null); // 迭代变量
 	
 	/**
-	 * Ķ
+	 * 创建上下文对象
 	 */
 	public Context() {
 	}
 
 	/**
-	 * Ķ, ͸Ĺ
-	 * @param parent 
+	 * 创建上下文对象, 和父上下文共享语义层
+	 * @param parent 父上下文
 	 */
 	public Context(Context parent) {
 		this.parent = parent;
 	}
 
 	/**
-	 * ø
+	 * 设置父上下文
 	 * @param parent Context
 	 */
 	public void setParent(Context parent) {
@@ -48,16 +48,16 @@ public class Context {
 	}
 
 	/**
-	 * ȡø
-	 * @return  
+	 * 取得父对象上下文
+	 * @return  父上下文
 	 */
 	public Context getParent() {
 		return parent;
 	}
 
 	/**
-	 * ȡݿOLAP
-	 * @param dbName ݿOLAP
+	 * 按名称取数据库或OLAP配置
+	 * @param dbName 数据库或OLAP名
 	 * @return DataSourceConfig
 	 */
 	public DBSession getDBSession(String dbName) {
@@ -72,25 +72,25 @@ public class Context {
 	}
 
 	/**
-	 * ݿ
-	 * @return Map nameDBSession
+	 * 返回所有数据库连接
+	 * @return Map name：DBSession
 	 */
 	public Map<String, DBSession> getDBSessionMap() {
 		return dbSessions;
 	}
 
 	/**
-	 * ݿOLAP
-	 * @param dbName Դ
-	 * @param dbSession Դ
+	 * 按名称设数据库或OLAP配置
+	 * @param dbName 数据源名
+	 * @param dbSession 数据源配置
 	 */
 	public void setDBSession(String dbName, DBSession dbSession) {
 		dbSessions.put(dbName, dbSession);
 	}
 
 	/**
-	 * ɾݿ
-	 * @param dbName String ݿ
+	 * 删除数据库连接
+	 * @param dbName String 数据库连接名
 	 * @return DBSession
 	 */
 	public DBSession removeDBSession(String dbName) {
@@ -100,9 +100,9 @@ public class Context {
 	}
 
 	/**
-	 * ȡݿӹ
-	 * @param name String ݿ
-	 * @return ISessionFactory ݿӹ
+	 * 获取数据库连接工厂
+	 * @param name String 数据库名称
+	 * @return ISessionFactory 数据库连接工厂
 	 */
 	public ISessionFactory getDBSessionFactory(String name) {
 		ISessionFactory sf = dbsfs.get(name);
@@ -111,24 +111,24 @@ public class Context {
 	 }
 
 	 /**
-	  * ݿӹ
-	  * @return Map nameISessionFactory
+	  * 返回所有数据库连接工厂
+	  * @return Map name：ISessionFactory
 	  */
 	 public Map<String, ISessionFactory> getDBSessionFactoryMap() {
 		 return dbsfs;
 	 }
 
 	 /**
-	  * ݿӹ
-	  * @param name String ݿ
-	  * @param sf ISessionFactory ݿӹ
+	  * 设置数据库连接工厂
+	  * @param name String 数据库名称
+	  * @param sf ISessionFactory 数据库连接工厂
 	  */
 	 public void setDBSessionFactory(String name, ISessionFactory sf) {
 		 dbsfs.put(name, sf);
 	 }
 
 	 /**
-	  * ɾݿӹ
+	  * 删除数据库连接工厂
 	  * @param name String
 	  * @return ISessionFactory
 	  */
@@ -139,20 +139,20 @@ public class Context {
 	 }
 
 	/**
-	 * ȡ
-	 * @param name 
+	 * 按名称取变量
+	 * @param name 变量名
 	 * @return DataStruct
 	 */
 	public Param getParam(String name) {
-		// ٴӸȡ
-		// ·αԼģ·αdfxٴ·αʲ
+		// 不再从父上下文取
+		// 多路游标有自己的上下文，创建多路游标后主dfx再创建变量多路游标里访问不到了
 		Param param = paramList.get(name);
 		if (param != null) return param;
 		return parent == null ? null : parent.getParam(name);
 	}
 
 	/**
-	 * زб
+	 * 返回参数列表
 	 * @return ParamList
 	 */
 	public ParamList getParamList() {
@@ -160,7 +160,7 @@ public class Context {
 	}
 
 	/**
-	 * òб
+	 * 设置参数列表
 	 * @param list ParamList
 	 */
 	public void setParamList(ParamList list) {
@@ -172,27 +172,27 @@ public class Context {
 	}
 
 	/**
-	 * ӱ
-	 * @param param 
+	 * 添加变量
+	 * @param param 变量
 	 */
 	public void addParam(Param param) {
 		paramList.add(param);
 	}
 
 	/**
-	 * ɾ
+	 * 按名称删除变量
 	 * @param name String
 	 * @return Param
 	 */
 	public Param removeParam(String name) {
 		return paramList.remove(name);
-		// ٴӸɾ
+		// 不再从父上下文删
 		//if (param != null) return param;
 		//return parent == null ? null : parent.removeParam(name);
 	}
 
 	/**
-	 * òֵһVAR͵Ĳ
+	 * 设置参数的值，如果变量不存在则产生一个VAR类型的参数
 	 * @param name String
 	 * @param value Object
 	 */
@@ -206,7 +206,7 @@ public class Context {
 	}
 
 	/**
-	 * òֵһparamType͵Ĳ
+	 * 设置参数的值，如果变量不存在则产生一个paramType类型的参数
 	 * @param name String
 	 * @param value Object
 	 * @param paramType byte Param.VAR  ARG
@@ -221,7 +221,7 @@ public class Context {
 	}
 
 	/**
-	 * ȡջڳԱѹջ
+	 * 取计算堆栈，用于成员函数左侧对象的压栈
 	 * @return
 	 */
 	public ComputeStack getComputeStack() {
@@ -229,7 +229,7 @@ public class Context {
 	}
 
 	/**
-	 * ȱʡݿ
+	 * 返回缺省数据库链接名称
 	 * @return String
 	 */
 	public String getDefDBsessionName() {
@@ -237,7 +237,7 @@ public class Context {
 	}
 
 	/**
-	 * ȱʡݿ
+	 * 设置缺省数据库链接名称
 	 * @param dsn String
 	 */
 	public void setDefDBsessionName(String dsn) {
@@ -245,14 +245,14 @@ public class Context {
 	}
 
 	/**
-	 * ȱʡݿ
+	 * 返回缺省数据库链接
 	 * @return DBSession
 	 */
 	public DBSession getDefDBsession() {
 		return getDBSession(defDsName);
 	}
 
-	// һӵݿ
+	// 返回一个已连接的数据库
 	public DBSession getDBSession() {
 		if (dbSessions.size() != 0) {
 			return dbSessions.values().iterator().next();
@@ -266,7 +266,7 @@ public class Context {
 	}
 
 	/**
-	 * random
+	 * 返回random对象
 	 * @return Random
 	 */
 	public Random getRandom() {
@@ -275,8 +275,8 @@ public class Context {
 	}
 
 	/**
-	 * ظΪseedrandom
-	 * @param seed long 
+	 * 返回根为seed的random对象
+	 * @param seed long 根
 	 * @return Random
 	 */
 	public Random getRandom(long seed) {
@@ -290,15 +290,15 @@ public class Context {
 	}
 
 	/**
-	 * ùռ
-	 * @param space ռ
+	 * 设置工作空间
+	 * @param space 工作空间
 	 */
 	public void setJobSpace(JobSpace space) {
 		this.js = space;
 	}
 
 	/**
-	 * ȡռ
+	 * 取工作空间
 	 * @return JobSpace
 	 */
 	public JobSpace getJobSpace() {
@@ -306,7 +306,7 @@ public class Context {
 	}
 
 	/**
-	 * ȡԴ
+	 * 取资源管理器
 	 * @return ResourceManager
 	 */
 	public ResourceManager getResourceManager() {
@@ -318,8 +318,8 @@ public class Context {
 	}
 	
 	/**
-	 * ָԴԴ
-	 * @param resource Դ
+	 * 添加指定资源到资源管理器
+	 * @param resource 资源
 	 */
 	public void addResource(IResource resource) {
 		ResourceManager rm = getResourceManager();
@@ -329,8 +329,8 @@ public class Context {
 	}
 	
 	/**
-	 * ָԴԴɾ
-	 * @param resource Դ
+	 * 把指定资源从资源管理器中删除
+	 * @param resource 资源
 	 */
 	public void removeResource(IResource resource) {
 		ResourceManager rm = getResourceManager();
@@ -340,11 +340,11 @@ public class Context {
 	}
 	
 	/**
-	 * µļ㻷
+	 * 创建新的计算环境
 	 * @return Context
 	 */
 	public Context newComputeContext() {
-		// ָthisΪfuncò׵StackOverflowError쳣
+		// 不再指定this为父，func调用层数多了容易导致StackOverflowError异常
 		Context ctx = new Context();
 		ctx.js = js;
 		ctx.dbSessions = dbSessions;
@@ -362,8 +362,8 @@ public class Context {
 	}
 	
 	/**
-	 * ָĵļ㻷Ʊ
-	 * @param ctx 
+	 * 复制指定上线文的计算环境，不复制变量
+	 * @param ctx 计算上下文
 	 */
 	public void setEnv(Context ctx) {
 		js = ctx.js;
@@ -373,7 +373,7 @@ public class Context {
 	}
 
 	/**
-	 * ȡ
+	 * 取迭代变量
 	 * @return Param
 	 */
 	public Param getIterateParam() {
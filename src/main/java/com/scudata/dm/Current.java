@@ -1,14 +1,14 @@
 package com.scudata.dm;
 
 /**
- * ڼкʱѹջ
+ * 用于计算序列函数时进行压栈
  * @author WangXiaoJun
  *
  */
 public class Current implements IComputeItem {
 	private Sequence sequence;
-	private int curIndex; // ǰڽмԪص1ʼ
-	private boolean isInStack = true; // Ƿڼջ
+	private int curIndex; // 当前序列正在进行计算的元素的索引，从1开始计数
+	private boolean isInStack = true; // 是否还在计算堆栈中
 
 	public Current(Sequence sequence) {
 		this.sequence = sequence;
@@ -20,7 +20,7 @@ public class Current implements IComputeItem {
 	}
 
 	/**
-	 * صǰڼԪ
+	 * 返回当前正在计算的元素
 	 * @return Object
 	 */
 	public Object getCurrent() {
@@ -28,7 +28,7 @@ public class Current implements IComputeItem {
 	}
 
 	/**
-	 * صǰڼԪ1ʼ
+	 * 返回当前正在计算的元素索引，从1开始计数
 	 * @return int
 	 */
 	public int getCurrentIndex() {
@@ -36,28 +36,28 @@ public class Current implements IComputeItem {
 	}
 	
 	/**
-	 * ȡԴ
+	 * 取源序列
 	 */
 	public Sequence getCurrentSequence() {
 		return sequence;
 	}
 	
 	/**
-	 * жǷڶջ
+	 * 判断序列是否还在堆栈中
 	 */
 	public boolean isInStack(ComputeStack stack) {
 		return isInStack;
 	}
 	
 	/**
-	 * ɣгջ
+	 * 计算完成，序列出栈
 	 */
 	public void popStack() {
 		isInStack = false;
 	}
 	
 	/**
-	 * жϵǰǷ͸ͬһ
+	 * 判断当前序列是否和给定序列是同一个序列
 	 * @param seq
 	 * @return
 	 */
@@ -66,7 +66,7 @@ public class Current implements IComputeItem {
 	}
 
 	/**
-	 * ȡеĳ
+	 * 取序列的长度
 	 * @return
 	 */
 	public int length() {
@@ -74,8 +74,8 @@ public class Current implements IComputeItem {
 	}
 
 	/**
-	 * ȡеĳԱ
-	 * @param i ţ1ʼ
+	 * 用序号取序列的成员
+	 * @param i 序号，从1开始计数
 	 * @return
 	 */
 	public Object get(int i) {
@@ -83,15 +83,15 @@ public class Current implements IComputeItem {
 	}
 
 	/**
-	 * õǰڼԪ
-	 * @param index int 1ʼ
+	 * 设置当前正在计算的元素索引
+	 * @param index int 从1开始计数
 	 */
 	public void setCurrent(int index) {
 		this.curIndex = index;
 	}
 
 	/**
-	 * ޸еĵǰԪΪֵָ
+	 * 修改序列的当前元素为指定值
 	 * @param val
 	 */
 	public void assign(Object val) {
@@ -99,8 +99,8 @@ public class Current implements IComputeItem {
 	}
 
 	/**
-	 * ޸ָλõԪ
-	 * @param index ţ1ʼ
+	 * 修改序列指定位置的元素
+	 * @param index 序号，从1开始计数
 	 * @param val
 	 */
 	public void assign(int index, Object val) {
@@ -108,7 +108,7 @@ public class Current implements IComputeItem {
 	}
 	
 	/**
-	 * ȡǰ¼ֵֶ
+	 * 取当前记录的字段值
 	 * @param field
 	 * @return
 	 */
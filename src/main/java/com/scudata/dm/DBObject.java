@@ -12,26 +12,26 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.DatabaseUtil;
 
 /**
- * ݿ⺯
+ * 数据库函数处理对象
  */
 public class DBObject implements IResource {
-	private DBSession dbSession; // ݿ
-	private Context ctx; // 
-	private boolean canClose; // ǷԱر
-	private boolean isLower = false; // ֶǷתСд
+	private DBSession dbSession; // 数据库连接
+	private Context ctx; // 上下文
+	private boolean canClose; // 连接是否可以被关闭
+	private boolean isLower = false; // 字段名是否转小写
 
 	/**
-	 * ݿ
-	 * @param dbSession DBSession ݿ
+	 * 构建数据库对象
+	 * @param dbSession DBSession 数据库连接
 	 */
 	public DBObject(DBSession dbSession) {
 		this.dbSession = dbSession;
 	}
 
 	/**
-	 * һݿ,ʹҪcloseر
+	 * 创建一数据库连接,使用完后需要调用close关闭
 	 * @param dbsf ISessionFactory
-	 * @param opt String e쳣ʱ¼쳣Ϣ׳쳣
+	 * @param opt String e：当有异常发生时记录异常信息而不是抛出异常
 	 * @throws Exception
 	 */
 	public DBObject(ISessionFactory dbsf, String opt, Context ctx) throws Exception {
@@ -47,13 +47,13 @@ public class DBObject implements IResource {
 		}
 	}
 
-	// ֻùDBObjectܵclose
+	// 只有用工厂创建的DBObject才能调用close
 	public boolean canClose() {
 		return canClose;
 	}
 	
 	/**
-	 * رconnect
+	 * 关闭由connect创建的连接
 	 */
 	public void close() {
 		if (!canClose) {
@@ -65,9 +65,9 @@ public class DBObject implements IResource {
 		if (!dbSession.isClosed()) {
 			if (ctx != null) ctx.removeResource(this);
 			if (!dbSession.getAutoCommit()) {
-				// еݿrollbackʱ׳쳣
+				// 有的数据库调用rollback时会抛出异常
 				try {
-					rollback(null); // ˺close׳쳣
+					rollback(null); // 不调此函数close会抛出异常
 				} catch (Exception e) {
 				}
 			}
@@ -77,14 +77,14 @@ public class DBObject implements IResource {
 	}
 	
 	/**
-	 * ĴϢ
-	 * @param opt String mشַĬϷerrorCode
+	 * 返回最近的错误信息，并重设错误
+	 * @param opt String m：返回错误字符串，默认返回errorCode
 	 * @return Object
 	 */
 	public Object error(String opt) {
 		DBSession session = getDbSession();
 		java.sql.SQLException e = session.error();
-		session.setError(null); // ȡ
+		session.setError(null); // 取出错误后重设错误
 
 		if (e == null) {
 			if (opt == null || opt.indexOf('m') == -1) {
@@ -98,7 +98,7 @@ public class DBObject implements IResource {
 			} else {
 				String str = e.getMessage();
 				if (str == null) {
-					str = "SQLException error code" + e.getErrorCode();
+					str = "SQLException error code：" + e.getErrorCode();
 				}
 
 				return str;
@@ -107,7 +107,7 @@ public class DBObject implements IResource {
 	}
 
 	/**
-	 * ύݿ
+	 * 更新提交到数据库
 	 */
 	public void commit() {
 		try {
@@ -119,8 +119,8 @@ public class DBObject implements IResource {
 	}
 
 	/**
-	 * ȡϴύĸ
-	 * @param name String ջع
+	 * 取消上次提交后所作的更新
+	 * @param name String 空回滚所有
 	 */
 	public boolean rollback(String name) {
 		try {
@@ -138,7 +138,7 @@ public class DBObject implements IResource {
 		}
 	}
 	
-	// ֶǷʹСд
+	// 字段名是否使用小写
 	public boolean isLower() {
 		return isLower;
 	}
@@ -152,7 +152,7 @@ public class DBObject implements IResource {
 	}
 	
 	/**
-	 * ݿӣʹreleaseDBSessionͷ
+	 * 返回数据库链接，使用完后调用releaseDBSession释放
 	 * @return DBSession
 	 */
 	public DBSession getDbSession() {
@@ -168,11 +168,11 @@ public class DBObject implements IResource {
 	}
 
 	/**
-	 * ִвѯ
-	 * @param sql String ѯ
-	 * @param params Object[] ֵ
-	 * @param types byte[] 
-	 * @param opt String iֻ1ʱس
+	 * 执行查询语句
+	 * @param sql String 查询语句
+	 * @param params Object[] 参数值
+	 * @param types byte[] 参数类型
+	 * @param opt String i：结果集只有1列时返回成序列
 	 * @param ctx Context
 	 * @return Sequence
 	 */
@@ -195,11 +195,11 @@ public class DBObject implements IResource {
 	}
 	
 	/**
-	 * еÿһԪִвѯ䣬ؽϲ
-	 * @param srcSeries Sequence Դ
-	 * @param sql String ѯ
-	 * @param params Expression[] ʽ
-	 * @param types byte[] 
+	 * 针对序列的每一个元素执行查询语句，返回结果集合并的序表
+	 * @param srcSeries Sequence 源序列
+	 * @param sql String 查询语句
+	 * @param params Expression[] 参数表达式
+	 * @param types byte[] 参数类型
 	 * @param opt String
 	 * @param ctx Context
 	 * @return Sequence
@@ -225,10 +225,10 @@ public class DBObject implements IResource {
 
 
 	/**
-	 * ִвѯ䣬ĵһ¼ֶλֶιɵС
-	 * @param sql String ѯ
-	 * @param params Object[] 
-	 * @param types byte[] 
+	 * 执行查询语句，返回满足条件的第一条记录的字段或多字段构成的序列。
+	 * @param sql String 查询语句
+	 * @param params Object[] 参数
+	 * @param types byte[] 参数类型
 	 * @param opt String
 	 * @return Object
 	 */
@@ -265,12 +265,12 @@ public class DBObject implements IResource {
 	}
 
 	/**
-	 * ִд洢̷ؽУضݼ򷵻е
-	 * @param sql String sql
-	 * @param params Object[] ֵ
-	 * @param types byte[] 
-	 * @param modes byte[] ģʽ
-	 * @param outParams String[] 
+	 * 执行存储过程返回结果序列，如果返回多个数据集，则返回序列的序列
+	 * @param sql String sql语句
+	 * @param params Object[] 参数值
+	 * @param types byte[] 参数类型
+	 * @param modes byte[] 输入输出模式
+	 * @param outParams String[] 输出参数所到变量的名称
 	 * @param ctx Context
 	 * @return Sequence
 	 */
@@ -282,11 +282,11 @@ public class DBObject implements IResource {
 	}
 
 	/**
-	 * ݿִsql
+	 * 针对数据库执行sql语句
 	 * @param sql String
-	 * @param params Object[] ֵ
-	 * @param types byte[] 
-	 * @param opt String k: ύȱʡύ
+	 * @param params Object[] 参数值
+	 * @param types byte[] 参数类型
+	 * @param opt String k: 不提交事务，缺省将提交
 	 * @return Object
 	 */
 	public Object execute(String sql, Object []params, byte []types, String opt) {
@@ -305,12 +305,12 @@ public class DBObject implements IResource {
 	}
 
 	/**
-	 * еÿһԪִsql
-	 * @param srcSeries Sequence Դ
+	 * 针对序列的每一个元素执行sql语句
+	 * @param srcSeries Sequence 源序列
 	 * @param sql String
-	 * @param params Expression[] ʽ
-	 * @param types byte[] 
-	 * @param opt String k: ύȱʡύ
+	 * @param params Expression[] 参数表达式
+	 * @param types byte[] 参数类型
+	 * @param opt String k: 不提交事务，缺省将提交
 	 * @param ctx Context
 	 */
 	public void execute(Sequence srcSeries, String sql, Expression[] params,
@@ -322,21 +322,37 @@ public class DBObject implements IResource {
 
 	public void execute(ICursor cursor, String sql, Expression[] params,
 			byte[] types, String opt, Context ctx) {
+		execute(cursor, sql, params, types, opt, 1, ctx);
+	}
+
+	/**
+	 * 针对游标的每一条记录执行sql语句，读游标和执行sql流水线进行
+	 * @param cursor ICursor 源游标
+	 * @param sql String
+	 * @param params Expression[] 参数表达式
+	 * @param types byte[] 参数类型
+	 * @param opt String k: 不提交事务，缺省将提交
+	 * @param conCount int 并行写的连接数，另建的连接执行完后各自提交，使用@k时只用当前连接
+	 * @param ctx Context
+	 */
+	public void execute(ICursor cursor, String sql, Expression[] params,
+			byte[] types, String opt, int conCount, Context ctx) {
 		DBSession dbs = getDbSession();
-		DatabaseUtil.execute(cursor,sql,params,types,ctx,dbs);//opt,
-		if (opt == null || opt.indexOf('k') == -1) commit();
+		boolean isCommit = opt == null || opt.indexOf('k') == -1;
+		DatabaseUtil.execute(cursor, sql, params, types, ctx, dbs, isCommit ? conCount : 1);
+		if (isCommit) commit();
 	}
 
 	/**
-	 * srcSeries±tableеֶfields
-	 * @param srcSeries Sequence Դ
-	 * @param table String 
-	 * @param fields String[] ֶ
-	 * @param fopts String[] pֶaֶֶ
-	 * @param exps Expression[] ֵʽ
+	 * 根据srcSeries更新表table中的字段fields
+	 * @param srcSeries Sequence 源排列
+	 * @param table String 表名
+	 * @param fields String[] 字段名
+	 * @param fopts String[] p：字段是主键，a：字段是自增字段
+	 * @param exps Expression[] 值表达式
 	 * @param opt String
 	 * @param ctx Context
-	 * @return int ¼¼
+	 * @return int 更新记录数
 	 */
 	public int update(Sequence srcSeries, String table, String[] fields,
 					   String[] fopts, Expression[] exps, String opt, Context ctx) {
@@ -14,30 +14,30 @@ import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ݽṹ
+ * 序表的数据结构
  * @author WangXiaoJun
  *
  */
 public class DataStruct implements Externalizable, IRecord {
-	public static final byte Col_AutoIncrement = 0x01; // Զ
+	public static final byte Col_AutoIncrement = 0x01; // 列自动增长属性
 	
 	private static final long serialVersionUID = 0x02010001;
-	private static final String DefNamePrefix = "_"; // Ĭֶǰ׺
+	private static final String DefNamePrefix = "_"; // 默认字段名前缀
 	
 	private static final int SIGN_TIMEKEY = 0x01;
 	private static final int SIGN_SEQKEY = 0x02;
 
-	private String[] fieldNames; // ֶ
-	private String[] primary; // ṹ
-	private int sign = 0; // ־ȡֵΪ涨ĳ
-	transient private int[] pkIndex; // 
+	private String[] fieldNames; // 字段名称
+	private String[] primary; // 结构主键
+	private int sign = 0; // 标志，取值为上面定义的常量
+	transient private int[] pkIndex; // 主键索引
 
-	// лʱʹ
+	// 序列化时使用
 	public DataStruct() {}
 
 	/**
-	 * ݽṹ
-	 * @param fields ֶ
+	 * 构建数据结构
+	 * @param fields 字段名数组
 	 */
 	public DataStruct(String[] fields) {
 		if (fields == null) {
@@ -54,7 +54,7 @@ public class DataStruct implements Externalizable, IRecord {
 				name = DefNamePrefix + (i + 1);
 				fields[i] = name;
 			} /*else if (name.charAt(0) == '#') {
-				// ֶ#abcٵָʾ
+				// 字段名可能是#abc，不再当主键指示符了
 				name = name.substring(1);
 				if (name.length() == 0) {
 					name = DefNamePrefix + (i + 1);
@@ -68,13 +68,13 @@ public class DataStruct implements Externalizable, IRecord {
 				pkList.add(name);
 			}*/
 
-			// ֵĺϷԣsqlֶܲλֵֶͬ
+			// 不检查名字的合法性，sql语句可能产生空名字段或相同名字的字段
 		}
 	}
 
 	/**
-	 * ݽṹлֽ
-	 * @return ֽ
+	 * 把数据结构序列化成字节数组
+	 * @return 字节数组
 	 */
 	public byte[] serialize() throws IOException{
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -85,8 +85,8 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֽݽṹ
-	 * @param buf ֽ
+	 * 由字节数组填充数据结构
+	 * @param buf 字节数组
 	 */
 	public void fillRecord(byte[] buf) throws IOException, ClassNotFoundException {
 		ByteArrayInputRecord in = new ByteArrayInputRecord(buf);
@@ -99,24 +99,24 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	public void writeExternal(ObjectOutput out) throws IOException {
-		out.writeByte(3); // 汾
+		out.writeByte(3); // 版本号
 		out.writeObject(fieldNames);
 		out.writeObject(primary);
-		out.writeInt(sign); // 汾3
+		out.writeInt(sign); // 版本3添加
 	}
 
 	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-		int v = in.readByte(); // 汾
+		int v = in.readByte(); // 版本号
 		fieldNames = (String[])in.readObject();
 		setPrimary((String[])in.readObject());
 		
-		if (v > 2) { // 汾3
+		if (v > 2) { // 版本3添加
 			sign = in.readInt();
 		}
 	}
 
 	/**
-	 * ݽṹ
+	 * 复制数据结构
 	 */
 	public DataStruct dup() {
 		String []names = new String[fieldNames.length];
@@ -128,8 +128,8 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * һ½ṹʹԴṹϢ
-	 * @param newFields ½ṹֶ
+	 * 创建一个新结构，使用源结构的主键信息
+	 * @param newFields 新结构字段名
 	 * @return
 	 */
 	public DataStruct create(String []newFields) {
@@ -147,7 +147,7 @@ public class DataStruct implements Externalizable, IRecord {
 				}
 			}
 
-			// ĳûˣ
+			// 某个主键没了，把他丢掉
 			if (delCount > 0) {
 				if (delCount < keyCount) {
 					String []newPrimary = new String[keyCount - delCount];
@@ -170,7 +170,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֶεֶβڷ-1
+	 * 返回字段的索引，如果字段不存在返回-1
 	 * @param fieldName String
 	 * @return int
 	 */
@@ -184,7 +184,7 @@ public class DataStruct implements Externalizable, IRecord {
 			}
 		}
 
-		// id
+		// 索引id
 		if (KeyWord.isFieldId(fieldName)) {
 			int i = KeyWord.getFiledId(fieldName);
 			if (i > 0 && i <= fcount) {
@@ -196,8 +196,8 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֶε
-	 * @param int index ֶ0ʼ
+	 * 返回字段的名名称
+	 * @param int index 字段索引，从0开始计数
 	 * @return String
 	 */
 	public String getFieldName(int index) {
@@ -210,7 +210,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֶĿ
+	 * 返回字段数目
 	 * @return int
 	 */
 	public int getFieldCount() {
@@ -218,7 +218,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֶ
+	 * 返回字段名称数组
 	 * @return String[]
 	 */
 	public String[] getFieldNames() {
@@ -226,7 +226,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ݽṹǷ
+	 * 返回两数据结构是否兼容
 	 * @param other DataStruct
 	 * @return boolean
 	 */
@@ -237,7 +237,7 @@ public class DataStruct implements Externalizable, IRecord {
 		String []names = other.fieldNames;
 		if (fieldNames.length != names.length) return false;
 
-		// ֶ˳Ҫһ
+		// 字段顺序需要一致
 		for (int i = 0, count = names.length; i < count; ++i) {
 			if (names[i] == null || names[i].length() == 0) {
 				if (fieldNames[i] != null && fieldNames[i].length() != 0) {
@@ -252,14 +252,14 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * жϽṹǷֶݣҪֶֶͬ˳ͬ
-	 * @param names ֶ
+	 * 判断结构是否与给定的字段名数组兼容，需要字段名相同并且字段顺序相同
+	 * @param names 字段名数组
 	 * @return
 	 */
 	public boolean isCompatible(String []names) {
 		if (fieldNames.length != names.length) return false;
 
-		// ֶ˳Ҫһ
+		// 字段顺序需要一致
 		for (int i = 0, count = names.length; i < count; ++i) {
 			if (names[i] == null || names[i].length() == 0) {
 				if (fieldNames[i] != null && fieldNames[i].length() != 0) {
@@ -274,7 +274,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ýṹ
+	 * 设置结构的主键
 	 * @param names String[]
 	 */
 	public void setPrimary(String []names) {
@@ -282,9 +282,9 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ýṹ
+	 * 设置结构的主键
 	 * @param names String[]
-	 * @param opt String tһΪ
+	 * @param opt String t：最后一个为
 	 */
 	public void setPrimary(String []names, String opt) {
 		sign = 0;
@@ -322,7 +322,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ؽṹ
+	 * 返回结构的主键
 	 * @return String[]
 	 */
 	public String[] getPrimary() {
@@ -330,7 +330,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Ƿż
+	 * 返回主键是否是序号键
 	 * @return
 	 */
 	public boolean isSeqKey() {
@@ -338,7 +338,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ȡʱûʱ򷵻0
+	 * 取时间键数量，没有时间键则返回0
 	 * @return
 	 */
 	public int getTimeKeyCount() {
@@ -346,7 +346,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ڽṹеûж򷵻ؿ
+	 * 返回主键在结构中的索引，没有定义主键则返回空
 	 * @return int[]
 	 */
 	public int[] getPKIndex() {
@@ -354,7 +354,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ȡû򷵻0
+	 * 取主键数，如果没有设置主键则返回0
 	 * @return
 	 */
 	public int getPKCount() {
@@ -366,7 +366,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ȡ¼
+	 * 取基本建的索引，不包含更新键
 	 * @return int[]
 	 */
 	public int[] getBaseKeyIndex() {
@@ -381,7 +381,7 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ȡʱ
+	 * 取更新时间键的索引
 	 * @return
 	 */
 	public int getTimeKeyIndex() {
@@ -389,14 +389,14 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ֶָ
+	 * 重命名指定字段
 	 * @param srcFields
 	 * @param newFields
 	 */
 	public void rename(String []srcFields, String []newFields) {
 		if (srcFields == null) return;
 		
-		String[] fieldNames = this.fieldNames; // ֶͨ
+		String[] fieldNames = this.fieldNames; // 普通字段
 		for (int i = 0, count = srcFields.length; i < count; ++i) {
 			int f = getFieldIndex(srcFields[i]);
 			if (f < 0) {
@@ -413,10 +413,10 @@ public class DataStruct implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * жϱʽǷֶָ
-	 * @param exps ʽ
-	 * @param fields ֶ
-	 * @return trueֶͬ
+	 * 判断表达式是否是指定的字段
+	 * @param exps 表达式数组
+	 * @param fields 字段索引数组
+	 * @return true：是相同字段
 	 */
 	public boolean isSameFields(Expression []exps, int []fields) {
 		int len = exps.length;
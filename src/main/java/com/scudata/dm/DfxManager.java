@@ -1,22 +1,133 @@
 package com.scudata.dm;
 
-import java.lang.ref.SoftReference;
-import java.util.HashMap;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.scudata.cellset.datamodel.PgmCellSet;
 
 /**
- * dfx
+ * dfx缓存管理器
+ * 按文件名缓存程序网，文件的修改时间或大小变了后缓存失效，重新读文件
+ * 每个文件保留一个没有运行过的模板网和若干个用完还回来的网，取不到空闲的网时克隆模板，不再读文件
+ * 缓存占用的内存超过上限时淘汰最久没有使用的文件
  */
 public class DfxManager {
+	private static final long CHECK_INTERVAL = 1000; // 检查文件是否被修改的最小时间间隔，毫秒
+
 	private static DfxManager dfxManager = new DfxManager();
-	private HashMap<String, SoftReference<PgmCellSet>> dfxRefMap = 
-		new HashMap<String, SoftReference<PgmCellSet>>();
+	private static volatile long maxCacheBytes = 64L * 1024 * 1024; // 缓存占用内存的上限
+
+	// [文件名, 缓存项]映射
+	private ConcurrentHashMap<String, Entry> entryMap = new ConcurrentHashMap<String, Entry>();
+	private AtomicLong totalBytes = new AtomicLong(); // 缓存的网估计占用的内存
+	private AtomicLong accessTick = new AtomicLong(); // 用来记录缓存项的访问顺序
+
+	private AtomicLong hitCount = new AtomicLong(); // 取到空闲网的次数
+	private AtomicLong cloneCount = new AtomicLong(); // 克隆模板的次数
+	private AtomicLong missCount = new AtomicLong(); // 读文件的次数
+	private AtomicLong evictCount = new AtomicLong(); // 因为超过内存上限淘汰的文件数
+	private AtomicLong invalidateCount = new AtomicLong(); // 因为文件被修改失效的文件数
+
+	/**
+	 * 一个文件的缓存项，网的缓存标记指向它，文件被修改或被淘汰后的缓存项不再接收还回来的网
+	 */
+	private class Entry {
+		private FileObject fo; // 文件对象
+		private Timestamp lastModified; // 读文件时文件的修改时间
+		private long size; // 读文件时文件的大小
+		private volatile long lastCheck; // 上次检查文件是否被修改的时间
+
+		private PgmCellSet template; // 没有运行过的网，用于克隆
+		private long cellSetBytes; // 一个网估计占用的内存
+		private ConcurrentLinkedQueue<PgmCellSet> idleQueue = new ConcurrentLinkedQueue<PgmCellSet>();
+		private volatile long lastAccess; // 最后访问的序号
+
+		public Entry(FileObject fo) {
+			this.fo = fo;
+			lastModified = fo.lastModified();
+			size = fo.size();
+			lastCheck = System.currentTimeMillis();
+		}
+
+		// 文件是否还是读缓存时的版本，间隔时间内不重复检查
+		public boolean isCurrent() {
+			long now = System.currentTimeMillis();
+			if (now - lastCheck < CHECK_INTERVAL) {
+				return true;
+			}
+
+			lastCheck = now;
+			Timestamp time = fo.lastModified();
+			if (time == null ? lastModified != null : !time.equals(lastModified)) {
+				return false;
+			}
+
+			return fo.size() == size;
+		}
+
+		// 从空闲队列中取网，取不到则克隆模板
+		public PgmCellSet getCellSet() {
+			lastAccess = accessTick.incrementAndGet();
+			PgmCellSet dfx = idleQueue.poll();
+			if (dfx != null) {
+				totalBytes.addAndGet(-cellSetBytes);
+				hitCount.incrementAndGet();
+				return dfx;
+			}
+
+			PgmCellSet pcs;
+			synchronized(this) {
+				if (template == null) {
+					template = fo.readPgmCellSet();
+					template.setName(fo.getFileName());
+					template.resetParam();
+
+					int rowCount = template.getRowCount();
+					int colCount = template.getColCount();
+					cellSetBytes = 64L * rowCount * colCount + 4 * size + 1024;
+					totalBytes.addAndGet(cellSetBytes);
+					missCount.incrementAndGet();
+				} else {
+					cloneCount.incrementAndGet();
+				}
+
+				pcs = template;
+			}
+
+			// 模板读出后不再修改，在锁外克隆，同一脚本的多个请求可以同时克隆
+			dfx = (PgmCellSet)pcs.deepClone();
+
+			dfx.setName(fo.getFileName());
+			dfx.setCacheTag(this);
+			return dfx;
+		}
+
+		// 把用完的网放回空闲队列
+		public void putCellSet(PgmCellSet dfx) {
+			idleQueue.add(dfx);
+			totalBytes.addAndGet(cellSetBytes);
+		}
+
+		// 估计占用的内存
+		public long getBytes() {
+			if (template == null) {
+				return 0;
+			} else {
+				return cellSetBytes * (idleQueue.size() + 1);
+			}
+		}
+	}
 
 	private DfxManager() {}
 
 	/**
-	 * ȡdfxʵ
+	 * 取dfx缓存管理器实例
 	 * @return DfxManager
 	 */
 	public static DfxManager getInstance() {
@@ -24,16 +135,33 @@ public class DfxManager {
 	}
 
 	/**
-	 * ĳ
+	 * 取缓存占用内存的上限
+	 * @return 字节数
+	 */
+	public static long getMaxCacheBytes() {
+		return maxCacheBytes;
+	}
+
+	/**
+	 * 设置缓存占用内存的上限
+	 * @param bytes 字节数
+	 */
+	public static void setMaxCacheBytes(long bytes) {
+		maxCacheBytes = bytes;
+	}
+
+	/**
+	 * 清除缓存的程序网
 	 */
 	public void clear() {
-		synchronized(dfxRefMap) {
-			dfxRefMap.clear();
+		synchronized(entryMap) {
+			entryMap.clear();
+			totalBytes.set(0);
 		}
 	}
-	
+
 	/**
-	 * ʹdfx
+	 * 使用完dfx，还给缓存管理器
 	 * @param dfx PgmCellSet
 	 */
 	public void putDfx(PgmCellSet dfx) {
@@ -42,82 +170,194 @@ public class DfxManager {
 		dfxCtx.setJobSpace(null);
 		dfx.reset();
 
-		synchronized(dfxRefMap) {
-			dfxRefMap.put(dfx.getName(), new SoftReference<PgmCellSet>(dfx));
+		// 文件被修改或缓存被清除后读出的网不再缓存
+		Object tag = dfx.getCacheTag();
+		String name = dfx.getName();
+		if (tag == null || name == null || entryMap.get(name) != tag) {
+			return;
+		}
+
+		Entry entry = (Entry)tag;
+		entry.putCellSet(dfx);
+		if (entryMap.get(name) != entry) {
+			// 放回时缓存项正好被替换或淘汰
+			entry.idleQueue.remove(dfx);
+			totalBytes.addAndGet(-entry.cellSetBytes);
+			return;
+		}
+
+		if (totalBytes.get() > maxCacheBytes) {
+			evict();
 		}
 	}
 
 	/**
-	 * ӻȡdfxʹҪputDfx
-	 * @param name dfxļ
-	 * @param ctx 
+	 * 从缓存管理器中取dfx，使用完后需要调用putDfx还给缓存管理器
+	 * @param name dfx文件名
+	 * @param ctx 计算上下文
 	 * @return PgmCellSet
 	 */
 	public PgmCellSet removeDfx(String name, Context ctx) {
-		PgmCellSet dfx = null;
-		synchronized(dfxRefMap) {
-			SoftReference<PgmCellSet> sr = dfxRefMap.remove(name);
-			if (sr != null) dfx = (PgmCellSet)sr.get();
+		Entry entry = entryMap.get(name);
+		if (entry == null || !entry.isCurrent()) {
+			entry = newEntry(name, new FileObject(name, null, "s", ctx), entry);
 		}
 
-		if (dfx == null) {
-			return readDfx(name, ctx);
-		} else {
-			// ٹctxеı
-			Context dfxCtx = dfx.getContext();
-			dfxCtx.setEnv(ctx);
-			return dfx;
-		}
+		return getDfx(entry, ctx);
 	}
 
 	/**
-	 * ӻȡdfxʹҪputDfx
-	 * @param fo dfxļ
-	 * @param ctx 
+	 * 从缓存管理器中取dfx，使用完后需要调用putDfx还给缓存管理器
+	 * @param fo dfx文件对象
+	 * @param ctx 计算上下文
 	 * @return PgmCellSet
 	 */
 	public PgmCellSet removeDfx(FileObject fo, Context ctx) {
-		PgmCellSet dfx = null;
 		String name = fo.getFileName();
-		synchronized(dfxRefMap) {
-			SoftReference<PgmCellSet> sr = dfxRefMap.remove(name);
-			if (sr != null) dfx = (PgmCellSet)sr.get();
+		Entry entry = entryMap.get(name);
+		if (entry == null || !entry.isCurrent()) {
+			entry = newEntry(name, fo, entry);
 		}
-		
-		if (dfx == null) {
-			return readDfx(fo, ctx);
-		} else {
-			// ٹctxеı
-			Context dfxCtx = dfx.getContext();
-			dfxCtx.setEnv(ctx);
-			return dfx;
+
+		return getDfx(entry, ctx);
+	}
+
+	// 为文件产生新的缓存项，替换掉失效的缓存项
+	private Entry newEntry(String name, FileObject fo, Entry oldEntry) {
+		Entry entry = new Entry(fo);
+		synchronized(entryMap) {
+			Entry cur = entryMap.get(name);
+			if (cur != oldEntry && cur != null) {
+				// 其它线程已经替换了
+				return cur;
+			}
+
+			if (oldEntry != null) {
+				totalBytes.addAndGet(-oldEntry.getBytes());
+				invalidateCount.incrementAndGet();
+			}
+
+			entryMap.put(name, entry);
+		}
+
+		return entry;
+	}
+
+	private PgmCellSet getDfx(Entry entry, Context ctx) {
+		PgmCellSet dfx = entry.getCellSet();
+
+		// 不再共享ctx中的变量
+		Context dfxCtx = dfx.getContext();
+		dfxCtx.setEnv(ctx);
+
+		if (totalBytes.get() > maxCacheBytes) {
+			evict();
+		}
+
+		return dfx;
+	}
+
+	// 内存超过上限时按最后访问顺序淘汰缓存项，直到低于上限的四分之三
+	private void evict() {
+		synchronized(entryMap) {
+			long limit = maxCacheBytes;
+			if (totalBytes.get() <= limit) {
+				return;
+			}
+
+			ArrayList<java.util.Map.Entry<String, Entry>> list =
+				new ArrayList<java.util.Map.Entry<String, Entry>>(entryMap.entrySet());
+			Collections.sort(list, new Comparator<java.util.Map.Entry<String, Entry>>() {
+				public int compare(java.util.Map.Entry<String, Entry> o1, java.util.Map.Entry<String, Entry> o2) {
+					return Long.compare(o1.getValue().lastAccess, o2.getValue().lastAccess);
+				}
+			});
+
+			limit = limit / 4 * 3;
+			Iterator<java.util.Map.Entry<String, Entry>> itr = list.iterator();
+			while (itr.hasNext() && totalBytes.get() > limit) {
+				java.util.Map.Entry<String, Entry> e = itr.next();
+				Entry entry = e.getValue();
+				if (entryMap.remove(e.getKey(), entry)) {
+					totalBytes.addAndGet(-entry.getBytes());
+					evictCount.incrementAndGet();
+				}
+			}
 		}
 	}
-	
+
 	/**
-	 * ȡdfxʹû
-	 * @param fo dfxļ
-	 * @param ctx 
+	 * 读取dfx，不会使用缓存
+	 * @param fo dfx文件对象
+	 * @param ctx 计算上下文
 	 * @return PgmCellSet
 	 */
 	public PgmCellSet readDfx(FileObject fo, Context ctx) {
 		PgmCellSet dfx = fo.readPgmCellSet();
 		dfx.setName(fo.getFileName());
 		dfx.resetParam();
-		
-		// ٹctxеı
+
+		// 不再共享ctx中的变量
 		Context dfxCtx = dfx.getContext();
 		dfxCtx.setEnv(ctx);
 		return dfx;
 	}
-	
+
 	/**
-	 * ȡdfxʹû
-	 * @param name dfxļ
-	 * @param ctx 
+	 * 读取dfx，不会使用缓存
+	 * @param name dfx文件名
+	 * @param ctx 计算上下文
 	 * @return PgmCellSet
 	 */
 	public PgmCellSet readDfx(String name, Context ctx) {
 		return readDfx(new FileObject(name, null, "s", ctx), ctx);
 	}
+
+	/**
+	 * 取从空闲网中取到网的次数
+	 * @return long
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * 取克隆模板网的次数
+	 * @return long
+	 */
+	public long getCloneCount() {
+		return cloneCount.get();
+	}
+
+	/**
+	 * 取读文件的次数
+	 * @return long
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * 取因为内存超过上限被淘汰的文件数
+	 * @return long
+	 */
+	public long getEvictCount() {
+		return evictCount.get();
+	}
+
+	/**
+	 * 取因为文件被修改而失效的文件数
+	 * @return long
+	 */
+	public long getInvalidateCount() {
+		return invalidateCount.get();
+	}
+
+	/**
+	 * 取缓存估计占用的内存
+	 * @return 字节数
+	 */
+	public long getCacheBytes() {
+		return totalBytes.get();
+	}
 }
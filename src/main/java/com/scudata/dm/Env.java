@@ -18,35 +18,40 @@ import com.scudata.common.Logger;
 import com.scudata.expression.Expression;
 
 /**
- * ȫֻ
+ * 全局环境配置
  * @author WangXiaoJun
  *
  */
 public class Env {
-	private static ParamList paramList = new ParamList(); // ȫ̱
+	private static ParamList paramList = new ParamList(); // 存放全程变量
 	private static Map<String, ISessionFactory> dbsfs;
-	private static String mainPath; // Ŀ¼
-	private static String tempPath; // ʱĿ¼
-	private static String[] paths; // dfxĿ¼
+	private static String mainPath; // 主目录
+	private static String tempPath; // 临时目录
+	private static String[] paths; // dfx搜索目录
 	private static String defCharsetName = System.getProperty("file.encoding"); // "GBK"
 																				// UTF-8
 	//private static String localHost;
 	//private static int localPort;
 	private static int parallel = (Runtime.getRuntime().availableProcessors()+1)/2;
 	private static int csParallel = (Runtime.getRuntime().availableProcessors()+1)/2;
+	private static boolean workStealing = false; // 线程池是否采用工作窃取方式调度任务
+	private static boolean mappedBlockRead = false; // 组表是否用内存映射读取区块
+	private static boolean blockFilter = false; // 新建组表时是否为列块记录空值数和布隆过滤器
+	private static long sortxMemory = 0; // 外存排序可以使用的内存字节数，0表示单线程排序
+	private static long groupxMemory = 0; // 外存分组可以使用的内存字节数，0表示按分组数写临时文件
 
-	public static int FILE_BUFSIZE = 1024 * 64; // ļʱĬϻС
-	public static int DEFAULT_HASHCAPACITY = 204047; // αĬϹϣѡ
-	public static int MAX_HASHCAPACITY = 10445899; // αϣ
-	public static final int INITGROUPSIZE = 8191; // ĳʼС
+	public static int FILE_BUFSIZE = 1024 * 64; // 读文件时的默认缓冲区大小
+	public static int DEFAULT_HASHCAPACITY = 204047; // 游标分组等运算的默认哈希表容量，优先选用质数
+	public static int MAX_HASHCAPACITY = 10445899; // 游标分组等运算的最大哈希表容量
+	public static final int INITGROUPSIZE = 8191; // 分组结果的初始大小
 
 
-	public static int BLOCK_SIZE = 1024 * 1024; // ļСС40962^nn>=16
+	public static int BLOCK_SIZE = 1024 * 1024; // 文件区块大小，最小4096。2^n，n>=16
 
-	// ȱʧֵ壬ִСдǴʱͳnull
+	// 缺失值定义，不区分大小写，非串类型时被解释成null
 	private static String[] nullStrings = new String[] { "nan", "null", "n/a" };
 	
-	// ǷǨע͸еĵԪ
+	// 是否变迁注释格中的单元格
 	private static boolean adjustNoteCell = true;
 
 	private static String DEFAULT_TASK = "_default_task_";
@@ -64,9 +69,9 @@ public class Env {
 	}
 
 	/**
-	 * ȡjĵڴ
-	 * @param j 
-	 * @return ڴ,ڴŲʱnull
+	 * 获取任务j的的内存区号
+	 * @param j 任务名称
+	 * @return 内存区号,内存区号不存在时，返回null
 	 */
 	public static Integer getAreaNo(String j) {
 		if(j==null){
@@ -76,9 +81,9 @@ public class Env {
 	}
 
 	/**
-	 * jڴΪi
-	 * @param j 
-	 * @param i ڴ
+	 * 设置任务j的内存区号为i
+	 * @param j 任务名称
+	 * @param i 内存区号
 	 */
 	public static void setAreaNo(String j, int i) {
 		if(j==null){
@@ -92,14 +97,14 @@ public class Env {
 	}
 
 	/**
-	 * ȡڴӳ
-	 * @return ӳ
+	 * 获取内存区号映射表
+	 * @return 映射表
 	 */
 	public static Map<String, Integer> getAreaNo(){
 		return areaNo;
 	}
 	/**
-	 * زб
+	 * 返回参数列表
 	 * 
 	 * @return ParamList
 	 */
@@ -108,9 +113,9 @@ public class Env {
 	}
 
 	/**
-	 * ȡ
+	 * 按名称取变量
 	 * 
-	 * @param name 
+	 * @param name 变量名
 	 * @return DataStruct
 	 */
 	public static Param getParam(String name) {
@@ -120,9 +125,9 @@ public class Env {
 	}
 
 	/**
-	 * ӱ
+	 * 添加变量
 	 * 
-	 * @param param 
+	 * @param param 变量
 	 */
 	public static void addParam(Param param) {
 		synchronized (paramList) {
@@ -131,7 +136,7 @@ public class Env {
 	}
 
 	/**
-	 * ɾ
+	 * 按名称删除变量
 	 * 
 	 * @param name String
 	 * @return Param
@@ -143,7 +148,7 @@ public class Env {
 	}
 
 	/**
-	 * ɾб
+	 * 删除所有变量
 	 */
 	public static void clearParam() {
 		areaNo.clear();
@@ -153,10 +158,10 @@ public class Env {
 	}
 
 	/**
-	 * ñֵһ
+	 * 设置变量的值，如果变量不存在则产生一个
 	 * 
-	 * @param name String 
-	 * @param value Object ֵ
+	 * @param name String 变量名
+	 * @param value Object 变量值
 	 */
 	public static void setParamValue(String name, Object value) {
 		synchronized (paramList) {
@@ -169,7 +174,7 @@ public class Env {
 		}
 	}
 	
-	// סټxΪ֧ͬenv(v,v+n)
+	// 先锁住变量再计算x，为了支持同步做env(v,v+n)
 	public static Object setParamValue(String name, Expression x, Context ctx) {
 		Param p;
 		synchronized (paramList) {
@@ -188,7 +193,7 @@ public class Env {
 	}
 
 	/**
-	 * Ĭַ
+	 * 设置默认字符集名称
 	 * 
 	 * @param name String
 	 */
@@ -197,7 +202,7 @@ public class Env {
 	}
 
 	/**
-	 * Ĭַ
+	 * 返回默认字符集名称
 	 * 
 	 * @return String
 	 */
@@ -206,7 +211,7 @@ public class Env {
 	}
 
 	/**
-	 * Ŀ¼
+	 * 设置主目录
 	 * 
 	 * @param path String
 	 */
@@ -215,7 +220,7 @@ public class Env {
 	}
 
 	/**
-	 * Ŀ¼
+	 * 返回主目录
 	 * 
 	 * @return String
 	 */
@@ -224,7 +229,7 @@ public class Env {
 	}
 
 	/**
-	 * ʱĿ¼
+	 * 设置临时目录
 	 * 
 	 * @param path
 	 *            String
@@ -234,7 +239,7 @@ public class Env {
 	}
 
 	/**
-	 * ʱĿ¼
+	 * 返回临时目录
 	 * 
 	 * @return String
 	 */
@@ -243,10 +248,10 @@ public class Env {
 	}
 	
 	/**
-	 * ȡһʱļ
-	 * 		ʱļļΪRQT+ǰʱ䣬չΪ(ĿǰѲͬ͵ļֿԷ)
-	 * @param exName	ʱļչ()
-	 * @return	һʱļ·
+	 * 取得一个临时文件名
+	 * 		临时文件得文件名为RQT+当前日期时间，扩展名为输入参数(目的是把不同类型得文件分开，以方便调试)
+	 * @param exName	临时文件扩展名(方便调试用)
+	 * @return	返回一个临时文件得路径名
 	 */
 	public static String getTempPathName(String exName) {
 		Date date = new Date();
@@ -269,10 +274,10 @@ public class Env {
 	}
 
 	/**
-	 * ȡݿӹ
+	 * 获取数据库连接工厂
 	 * 
-	 * @param name String ݿ
-	 * @return ISessionFactory ݿӹ
+	 * @param name String 数据库名称
+	 * @return ISessionFactory 数据库连接工厂
 	 */
 	public static ISessionFactory getDBSessionFactory(String name) {
 		if (dbsfs == null)
@@ -281,10 +286,10 @@ public class Env {
 	}
 
 	/**
-	 * ݿӹ
+	 * 设置数据库连接工厂
 	 * 
-	 * @param name String ݿ
-	 * @param sf ISessionFactory ݿӹ
+	 * @param name String 数据库名称
+	 * @param sf ISessionFactory 数据库连接工厂
 	 */
 	public static void setDBSessionFactory(String name, ISessionFactory sf) {
 		if (dbsfs == null) {
@@ -295,7 +300,7 @@ public class Env {
 	}
 
 	/**
-	 * ɾݿӹ
+	 * 按名称删除数据库连接工厂
 	 * 
 	 * @param name String
 	 */
@@ -306,7 +311,7 @@ public class Env {
 	}
 
 	/**
-	 * ɾеݿӹ
+	 * 删除所有的数据库连接工厂
 	 */
 	public static void clearDBSessionFactories() {
 		if (dbsfs != null) {
@@ -315,7 +320,7 @@ public class Env {
 	}
 
 	/**
-	 * ȡݿӹӳ
+	 * 取数据库连接工厂映射
 	 * @return
 	 */
 	public static Map<String, ISessionFactory> getDBSessionFactories() {
@@ -323,62 +328,62 @@ public class Env {
 	}
 
 	/**
-	 * ȡʱʽ
+	 * 获取时间格式
 	 * 
-	 * @return String ʱʽ趨
+	 * @return String 时间格式设定
 	 */
 	public static String getTimeFormat() {
 		return DateFormatFactory.getDefaultTimeFormat();
 	}
 
 	/**
-	 * ʱʽ
+	 * 设置时间格式
 	 * 
-	 * @param format String ʱʽ趨
+	 * @param format String 时间格式设定
 	 */
 	public static void setTimeFormat(String format) {
 		DateFormatFactory.setDefaultTimeFormat(format);
 	}
 
 	/**
-	 * ȡڸʽ
+	 * 获取日期格式
 	 * 
-	 * @return String ڸʽ趨
+	 * @return String 日期格式设定
 	 */
 	public static String getDateFormat() {
 		return DateFormatFactory.getDefaultDateFormat();
 	}
 
 	/**
-	 * ڸʽ
+	 * 设置日期格式
 	 * 
 	 * @param format
-	 *            String ڸʽ趨
+	 *            String 日期格式设定
 	 */
 	public static void setDateFormat(String format) {
 		DateFormatFactory.setDefaultDateFormat(format);
 	}
 
 	/**
-	 * ȡʱʽ
+	 * 获取日期时间格式
 	 * 
-	 * @return String ʱʽ趨
+	 * @return String 日期时间格式设定
 	 */
 	public static String getDateTimeFormat() {
 		return DateFormatFactory.getDefaultDateTimeFormat();
 	}
 
 	/**
-	 * ʱʽ
+	 * 设置日期时间格式
 	 * 
-	 * @param format String ʱʽ趨
+	 * @param format String 日期时间格式设定
 	 */
 	public static void setDateTimeFormat(String format) {
 		DateFormatFactory.setDefaultDateTimeFormat(format);
 	}
 
 	/**
-	 * ݱȽʹõıȽ
+	 * 返回数据比较所使用的比较器
 	 * 
 	 * @return Comparator<String>
 	 */
@@ -387,7 +392,7 @@ public class Env {
 	}
 
 	/**
-	 * ȡдļС
+	 * 取读写文件缓冲区大小
 	 * 
 	 * @return int
 	 */
@@ -396,7 +401,7 @@ public class Env {
 	}
 
 	/**
-	 * ȡļ鲢ļС
+	 * 取多文件归并是文件缓冲区大小
 	 * 
 	 * @param fcount int
 	 * @return int
@@ -417,7 +422,7 @@ public class Env {
 	}
 
 	/**
-	 * öдļС
+	 * 设置读写文件缓冲区大小
 	 * 
 	 * @param size
 	 *            int
@@ -431,7 +436,7 @@ public class Env {
 	}
 
 	/**
-	 * ȡ޷֪ʱĬϹϣ
+	 * 取无法知道容量时的默认哈希表容量
 	 * 
 	 * @return int
 	 */
@@ -440,7 +445,7 @@ public class Env {
 	}
 
 	/**
-	 * ޷֪ʱĬϹϣ
+	 * 设无法知道容量时的默认哈希表容量
 	 * 
 	 * @param n int
 	 */
@@ -457,7 +462,7 @@ public class Env {
 	}
 
 	/**
-	 * ȡʺϲͨ߳
+	 * 取适合并行数，用于普通函数分配线程数
 	 * @return int
 	 */
 	public static int getParallelNum() {
@@ -465,7 +470,7 @@ public class Env {
 	}
 
 	/**
-	 * ʺϲ
+	 * 设适合并行数
 	 * @param num
 	 */
 	public static void setParallelNum(int num) {
@@ -473,7 +478,7 @@ public class Env {
 	}
 	
 	/**
-	 * ȡȱʡĶ·α·ڲ·α
+	 * 取缺省的多路游标路数，用于产生多路游标
 	 * @return
 	 */
 	public static int getCursorParallelNum() {
@@ -481,7 +486,7 @@ public class Env {
 	}
 	
 	/**
-	 * ȱʡĶ·α·
+	 * 设置缺省的多路游标路数
 	 * @param num
 	 */
 	public static void setCursorParallelNum(int num) {
@@ -489,21 +494,109 @@ public class Env {
 	}
 
 	/**
-	 * ȡwebӦ
+	 * 取线程池是否采用工作窃取方式调度任务
+	 * @return true：每个工作线程一个任务队列，空闲线程窃取其它线程的任务；false：所有线程共用一个任务队列
+	 */
+	public static boolean isWorkStealing() {
+		return workStealing;
+	}
+
+	/**
+	 * 设置线程池是否采用工作窃取方式调度任务，对之后新创建的线程池生效
+	 * @param b
+	 */
+	public static void setWorkStealing(boolean b) {
+		workStealing = b;
+	}
+
+	/**
+	 * 取组表是否用内存映射读取区块
+	 * @return true：用内存映射读，多个游标可以并发读同一个组表文件；false：对文件加锁后读
+	 */
+	public static boolean isMappedBlockRead() {
+		return mappedBlockRead;
+	}
+
+	/**
+	 * 设置组表是否用内存映射读取区块，映射的内存在垃圾回收时才释放，在windows下被映射的文件不能删除
+	 * @param b
+	 */
+	public static void setMappedBlockRead(boolean b) {
+		mappedBlockRead = b;
+	}
+
+	/**
+	 * 返回新建组表时是否为列块记录过滤信息
+	 * @return true：每个列块记录空值数，整数和串列块还记录布隆过滤器，等值和包含条件可以跳过列块；false：不记录
+	 */
+	public static boolean isBlockFilter() {
+		return blockFilter;
+	}
+
+	/**
+	 * 设置新建组表时是否为列块记录过滤信息，对已有的组表不起作用
+	 * @param b
+	 */
+	public static void setBlockFilter(boolean b) {
+		blockFilter = b;
+	}
+
+	/**
+	 * 取外存排序可以使用的内存字节数
+	 * @return 大于0时多线程生成有序临时文件，按此内存确定每个临时文件的记录数；0表示单线程排序
+	 */
+	public static long getSortxMemory() {
+		return sortxMemory;
+	}
+
+	/**
+	 * 设置外存排序可以使用的内存字节数
+	 * @param bytes 字节数，0表示单线程排序
+	 */
+	public static void setSortxMemory(long bytes) {
+		if (bytes < 0) {
+			sortxMemory = 0;
+		} else {
+			sortxMemory = bytes;
+		}
+	}
+
+	/**
+	 * 取外存分组可以使用的内存字节数
+	 * @return 大于0时采用混合哈希分组，内存不够时只把部分哈希分区写到临时文件；0表示分组数达到容量时全部写出
+	 */
+	public static long getGroupxMemory() {
+		return groupxMemory;
+	}
+
+	/**
+	 * 设置外存分组可以使用的内存字节数
+	 * @param bytes 字节数，0表示不采用混合哈希分组
+	 */
+	public static void setGroupxMemory(long bytes) {
+		if (bytes < 0) {
+			groupxMemory = 0;
+		} else {
+			groupxMemory = bytes;
+		}
+	}
+
+	/**
+	 * 取web应用上下文
 	 */
 	public static ServletContext getApplication() {
 		return sc;
 	}
 
 	/**
-	 * webӦ
+	 * 设置web应用上下文
 	 */
 	public static void setApplication(ServletContext app) {
 		sc = app;
 	}
 
 	/**
-	 * webӦﰴѰַ·ָԴURL
+	 * 在web应用里按寻址路径查找指定资源的URL
 	 */
 	public static URL getResourceFromApp(String fileName) {
 		if (sc == null)
@@ -532,7 +625,7 @@ public class Env {
 	}
 
 	/**
-	 * webӦûȡָԴ
+	 * 在web应用获取指定资源的输入流
 	 */
 	public static InputStream getStreamFromApp(String fileName) {
 		URL u = getResourceFromApp(fileName);
@@ -548,7 +641,7 @@ public class Env {
 	}
 
 	/**
-	 * ȡļС
+	 * 取文件区块大小
 	 * 
 	 * @return
 	 */
@@ -557,16 +650,16 @@ public class Env {
 	}
 
 	/**
-	 * ļС
+	 * 设置文件区块大小
 	 * 
-	 * @param int size 2^nn>=16
+	 * @param int size 2^n，n>=16
 	 */
 	public static void setBlockSize(int size) {
 		BLOCK_SIZE = size;
 	}
 
 	/**
-	 * ȡȱʧֵ壬ִСдǴʱͳnull
+	 * 取缺失值定义，不区分大小写，非串类型时被解释成null
 	 * 
 	 * @return
 	 */
@@ -575,7 +668,7 @@ public class Env {
 	}
 
 	/**
-	 * ȱʧֵ壬ִСдǴʱͳnull
+	 * 设置缺失值定义，不区分大小写，非串类型时被解释成null
 	 * 
 	 * @param nss
 	 */
@@ -584,9 +677,9 @@ public class Env {
 	}
 	
 	/**
-	 * ȡָļ
-	 * @param partition 
-	 * @param name ļ
+	 * 取指定分区的文件
+	 * @param partition 分区
+	 * @param name 文件名
 	 * @return
 	 */
 	public static File getPartitionFile(int partition, String name) {
@@ -598,7 +691,7 @@ public class Env {
 	}
 
 	/**
-	 * ǷǨע͸еĴ
+	 * 是否变迁注释格中的串
 	 * @return
 	 */
 	public static boolean isAdjustNoteCell() {
@@ -606,7 +699,7 @@ public class Env {
 	}
 
 	/**
-	 * ǷǨע͸еĴ
+	 * 设置是否变迁注释格中的串
 	 * @param adjustNoteCell
 	 */
 	public static void setAdjustNoteCell(boolean adjustNoteCell) {
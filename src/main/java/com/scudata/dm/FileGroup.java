@@ -23,8 +23,8 @@ import com.scudata.dw.PhyTableGroup;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ļ
- * file(fn:z) z
+ * 文件组
+ * file(fn:z) z数列
  * @author RunQian
  *
  */
@@ -38,8 +38,8 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * ѵǰд
-	 * @param out 
+	 * 把当前对象写到输出流
+	 * @param out 输出流
 	 */
 	public void writeExternal(ObjectOutput out) throws IOException {
 		out.writeObject(fileName);
@@ -50,8 +50,8 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * ļ
-	 * @param in 
+	 * 从输入流读出文件组对象
+	 * @param in 输入流
 	 */
 	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 		fileName = (String)in.readObject();
@@ -63,7 +63,7 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * ȡļ
+	 * 取文件名
 	 * @return
 	 */
 	public String getFileName() {
@@ -71,7 +71,7 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * ȡֱ
+	 * 取分表号
 	 * @return
 	 */
 	public int[] getPartitions() {
@@ -79,9 +79,9 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * 
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 打开组表
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public PhyTableGroup open(String opt, Context ctx) {
@@ -98,11 +98,11 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * 
-	 * @param colNames ֶ
-	 * @param distribute ֲʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 创建组表
+	 * @param colNames 字段名数组
+	 * @param distribute 分布表达式
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return
 	 * @throws IOException
 	 */
@@ -143,10 +143,10 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * 
-	 * @param opt ѡ
-	 * @param ctx
-	 * @return trueɹfalseʧ
+	 * 整理组表数据
+	 * @param opt 选项
+	 * @param ctx计算上下文
+	 * @return true：成功，false：失败
 	 */
 	public boolean resetGroupTable(String opt, Context ctx) {
 		int pcount = partitions.length;
@@ -163,11 +163,11 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * Ѹɵ
-	 * @param newFile Ӧļ
-	 * @param opt ѡ
-	 * @param ctx
-	 * @return trueɹfalseʧ
+	 * 把复组表整理成单组表
+	 * @param newFile 新组表对应的文件
+	 * @param opt 选项
+	 * @param ctx计算上下文
+	 * @return true：成功，false：失败
 	 */
 	public boolean resetGroupTable(File newFile, String opt, Context ctx) {
 		PhyTableGroup tableGroup = open(null, ctx);
@@ -175,8 +175,8 @@ public class FileGroup implements Externalizable {
 		
 		boolean isCol = baseTable.getGroupTable() instanceof ColComTable;
 		boolean hasN = false;
-		boolean compress = false; // ѹ
-		boolean uncompress = false; // ѹ
+		boolean compress = false; // 压缩
+		boolean uncompress = false; // 不压缩
 		
 		if (opt != null) {
 			if (opt.indexOf('r') != -1) {
@@ -228,7 +228,7 @@ public class FileGroup implements Externalizable {
 			}
 		}
 
-		// ɷֶѡǷ񰴵һֶηֶ
+		// 生成分段选项，是否按第一字段分段
 		String newOpt = null;
 		String segmentCol = baseTable.getSegmentCol();
 		if (segmentCol != null) {
@@ -237,7 +237,7 @@ public class FileGroup implements Externalizable {
 		
 		ComTable newGroupTable = null;
 		try {
-			//ļ
+			//生成新组表文件
 			if (isCol) {
 				newGroupTable = new ColComTable(newFile, colNames, null, newOpt, ctx);
 				if (compress) {
@@ -251,7 +251,7 @@ public class FileGroup implements Externalizable {
 				newGroupTable = new RowComTable(newFile, colNames, null, newOpt, ctx);
 			}
 			
-			//ֶ
+			//处理分段
 			boolean needSeg = baseTable.getSegmentCol() != null;
 			if (needSeg) {
 				newGroupTable.getBaseTable().setSegmentCol(baseTable.getSegmentCol(), baseTable.getSegmentSerialLen());
@@ -262,14 +262,14 @@ public class FileGroup implements Externalizable {
 				return Boolean.TRUE;
 			}
 			
-			//»
+			//新基表
 			PhyTable newBaseTable = newGroupTable.getBaseTable();
 			ICursor cs = tableGroup.merge(ctx);
 
 			newBaseTable.append(cs);
 			newBaseTable.appendCache();
 			
-			//ӱ
+			//基表的子表
 			ArrayList<PhyTable> tableList = baseTable.getTableList();
 			for (PhyTable t : tableList) {
 				colNames = t.getColNames();
@@ -308,7 +308,7 @@ public class FileGroup implements Externalizable {
 			throw new RQException(e.getMessage(), e);
 		}
 		
-		//ؽļcuboid
+		//重建索引文件和cuboid
 		newGroupTable.getBaseTable().resetIndex(ctx);
 		newGroupTable.getBaseTable().resetCuboid(ctx);
 		ArrayList<PhyTable> newTableList = newGroupTable.getBaseTable().getTableList();
@@ -322,16 +322,16 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * Ѹһзֲʽݵķֲ
-	 * @param newFileGroup ļ
-	 * @param opt ѡ
-	 * @param distribute ֲʽ
-	 * @param ctx
-	 * @return trueɹfalseʧ
+	 * 把复组表数据整理到另一个复组表，如果有分布表达式更改数据的分布
+	 * @param newFileGroup 新文件组
+	 * @param opt 选项
+	 * @param distribute 分布表达式
+	 * @param ctx计算上下文
+	 * @return true：成功，false：失败
 	 */
 	public boolean resetGroupTable(FileGroup newFileGroup, String opt, String distribute, Context ctx) {
 		if (distribute == null || distribute.length() == 0) {
-			// ֲ
+			// 分布不变
 			int pcount = partitions.length;
 			if (pcount != newFileGroup.partitions.length) {
 				MessageManager mm = EngineMessage.get();
@@ -349,11 +349,11 @@ public class FileGroup implements Externalizable {
 				}
 			}
 		} else {
-			// ֲʽ
+			// 更换分布表达式
 			PhyTableGroup tableGroup = open(null, ctx);
 			PhyTable baseTable = (PhyTable) tableGroup.getTables()[0];
 			boolean isCol = baseTable.getGroupTable() instanceof ColComTable;
-			boolean uncompress = false; // ѹ
+			boolean uncompress = false; // 不压缩
 			if (opt != null) {
 				if (opt.indexOf('r') != -1) {
 					isCol = false;
@@ -394,7 +394,7 @@ public class FileGroup implements Externalizable {
 				}
 			}
 			
-			// ɷֶѡǷ񰴵һֶηֶ
+			// 生成分段选项，是否按第一字段分段
 			String newOpt = "y";
 			String segmentCol = baseTable.getSegmentCol();
 			if (segmentCol != null) {
@@ -411,12 +411,12 @@ public class FileGroup implements Externalizable {
 				newOpt += 'u';
 			}
 			try {
-				//д
+				//写基表
 				PhyTableGroup newTableGroup = newFileGroup.create(colNames, distribute, newOpt, ctx);
 				ICursor cs = tableGroup.merge(ctx);
 				newTableGroup.append(cs, "xi");
 				
-				//дӱ
+				//写子表
 				ArrayList<PhyTable> tableList = baseTable.getTableList();
 				for (PhyTable t : tableList) {
 					len = t.getColNames().length;
@@ -438,7 +438,7 @@ public class FileGroup implements Externalizable {
 					}
 					IPhyTable newTable = newTableGroup.createAnnexTable(colNames, t.getSerialBytesLen(), t.getTableName());
 					
-					//α꣬ȡֶҪֶΣΪҪֲ
+					//附表的游标，取出字段里要包含基表所有字段，这是因为需要计算分布
 					String[] allColNames = Arrays.copyOf(srcColNames, srcColNames.length + t.getColNames().length);
 					System.arraycopy(t.getColNames(), 0, allColNames, srcColNames.length, t.getColNames().length);
 					cs = tableGroup.getAnnexTable(t.getTableName()).cursor(allColNames);
@@ -456,8 +456,8 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * ȡָŶӦķֱļ
-	 * @param index ţ0ʼ
+	 * 取指定序号对应的分表文件
+	 * @param index 序号，从0开始计数
 	 * @return
 	 */
 	public File getPartitionFile(int index) {
@@ -465,8 +465,8 @@ public class FileGroup implements Externalizable {
 	}
 	
 	/**
-	 * ȡֱ
-	 * @return ֱ
+	 * 取分表数
+	 * @return 分表数
 	 */
 	public int getPartitionCount() {
 		return partitions.length;
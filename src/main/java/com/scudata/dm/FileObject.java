@@ -36,51 +36,51 @@ import com.scudata.util.CellSetUtil;
 import com.scudata.util.Variant;
 
 /**
- * ļ
- * file(...)ķֵ
+ * 文件对象
+ * file(...)函数的返回值
  * @author WangXiaoJun
  *
  */
 public class FileObject implements Externalizable {
-	public static final String TEMPFILE_PREFIX = "tmpdata"; // ȱ3
+	public static final String TEMPFILE_PREFIX = "tmpdata"; // 长度必须大于3
 	
-	public static final int FILETYPE_TEXT = 0; // ı
-	public static final int FILETYPE_BINARY = 1; // ļ
-	public static final int FILETYPE_GROUPTABLE = 2; // 
-	public static final int FILETYPE_GROUPTABLE_ROW = 3; // ʽ
-	public static final int LOCK_SLEEP_TIME = 100; // ʱ
+	public static final int FILETYPE_TEXT = 0; // 文本
+	public static final int FILETYPE_BINARY = 1; // 集文件
+	public static final int FILETYPE_GROUPTABLE = 2; // 组表
+	public static final int FILETYPE_GROUPTABLE_ROW = 3; // 行式组表
+	public static final int LOCK_SLEEP_TIME = 100; // 锁休眠时间
 	
-	// {(byte)'\r', (byte)'\n'}; // н־
-	// \r\n  \n дʱݲϵͳʱҪֶ
+	// {(byte)'\r', (byte)'\n'}; // 行结束标志
+	// \r\n 或 \n 写的时候根据操作系统决定，读的时候需要两种都兼容
 	public static final byte[] LINE_SEPARATOR = System.getProperty("line.separator").getBytes();
 	public static final byte[] DM_LINE_SEPARATOR = new byte[] {'\r', '\n'};
-	public static final byte[] COL_SEPARATOR = new byte[] {(byte)'\t'}; // м
-	private static final int BLOCKCOUNT = 999; // ļС
-	public static final String S_FIELDNAME = "_1"; // ʱĬϵֶ
+	public static final byte[] COL_SEPARATOR = new byte[] {(byte)'\t'}; // 列间隔
+	private static final int BLOCKCOUNT = 999; // 二进制文件块大小
+	public static final String S_FIELDNAME = "_1"; // 导出序列时默认的字段名
 
-	private String fileName; // ļ·
-	private String charset; // ıļַ
-	private String opt; // ѡ
+	private String fileName; // 文件路径名
+	private String charset; // 文本文件的字符集
+	private String opt; // 选项
 
-	private Integer partition; // 
+	private Integer partition; // 分区
 	
-	// ļڻipͶ˿
+	// 文件所在机器的ip和端口
 	private String ip;
 	private int port;
 	
-	private boolean isSimpleSQL; // ǷڼSQL
+	private boolean isSimpleSQL; // 是否用于简单SQL
 	
-	transient private IFile file; // ӦʵļǱļԶļHDFSļ
-	transient private Context ctx; // 
+	transient private IFile file; // 对应的实际文件，可以是本地文件、远程文件、HDFS文件
+	transient private Context ctx; // 计算上下文
 	
-	transient private boolean isRemoteFileWritable = false; // ԶļǷд
+	transient private boolean isRemoteFileWritable = false; // 远程文件是否可写
 	
-	// л
+	// 仅供序列化
 	public FileObject() {
 	}
 
 	/**
-	 * һļ󹹽ļ
+	 * 用另一个文件对象构建文件对象
 	 * @param fo
 	 */
 	public FileObject(FileObject fo) {
@@ -95,26 +95,26 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ļһļ
-	 * @param name ļ·
+	 * 根据文件名构造一文件对象
+	 * @param name 文件路径名
 	 */
 	public FileObject(String name) {
 		this(name, null);
 	}
 	
 	/**
-	 * ļһļ
-	 * @param name ļ·
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 根据文件名构造一文件对象
+	 * @param name 文件路径名
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public FileObject(String name, String opt, Context ctx) {
 		this(name, null, opt, ctx);
 	}
 
 	/**
-	 * Զļ
-	 * @param name ļ·
+	 * 构建远程文件对象
+	 * @param name 文件路径名
 	 * @param ip
 	 * @param port
 	 */
@@ -125,20 +125,20 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ֹһļ
+	 * 根据名字构造一文件对象
 	 * @param name String
-	 * @param opt String s··ֻppathбҲֻ
+	 * @param opt String s：查找路径包含类路径并且只读，p：在path列表中找并且只读
 	 */
 	public FileObject(String name, String opt) {
 		this(name, null, opt, null);
 	}
 
 	/**
-	 * ļһļ
+	 * 根据文件构造一文件对象
 	 * @param file IFile
-	 * @param name ļ
-	 * @param cs ıļַ
-	 * @param opt ѡ
+	 * @param name 文件名
+	 * @param cs 文本文件字符集
+	 * @param opt 选项
 	 */
 	public FileObject(IFile file, String name, String cs, String opt) {
 		this(name, cs, opt, null);
@@ -146,18 +146,18 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ֹһļ
+	 * 根据名字构造一文件对象
 	 * @param name String
-	 * @param cs String ַ
-	 * @param opt String s··ֻppathбҲֻ
-	 * @param ctx Context Ҫʱnull
+	 * @param cs String 字符集
+	 * @param opt String s：查找路径包含类路径并且只读，p：在path列表中找并且只读
+	 * @param ctx Context 不需要时传null
 	 */
 	public FileObject(String name, String cs, String opt, Context ctx) {
 		this.ctx = ctx;
 		setOption(opt);
 		setCharset(cs);
 
-		// "remote://ip:port/" Զļ
+		// "remote://ip:port/…" 远程文件
 		final String remotePrefix = "remote://";
 		if (name.startsWith(remotePrefix)) {
 			int start = remotePrefix.length();
@@ -186,30 +186,30 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ǷǼSQL
-	 * @param b true
+	 * 设置是否是简单SQL
+	 * @param b true：是
 	 */
 	public void setIsSimpleSQL(boolean b) {
 		isSimpleSQL = b;
 	}
 	
 	/**
-	 * ȡǷǼSQL
-	 * @return true
+	 * 取是否是简单SQL
+	 * @return true：是
 	 */
 	public boolean getIsSimpleSQL() {
 		return isSimpleSQL;
 	}
 	
 	/**
-	 * Զļд
+	 * 设置远程文件可写
 	 */
 	public void setRemoteFileWritable(){
 		isRemoteFileWritable = true;
 	}
 	
 	/**
-	 * ü
+	 * 设置计算上下文
 	 * @param ctx
 	 */
 	public void setContext(Context ctx) {
@@ -217,7 +217,7 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * ѡ
+	 * 设置选项
 	 * @param opt
 	 */
 	public void setOption(String opt) {
@@ -225,8 +225,8 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * ıļַ
-	 * @param cs ַ
+	 * 设置文本文件字符集
+	 * @param cs 字符集
 	 */
 	public void setCharset(String cs) {
 		if (cs == null || cs.length() == 0) {
@@ -237,7 +237,7 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * ÷
+	 * 设置分区
 	 * @param p
 	 */
 	public void setPartition(Integer p) {
@@ -245,7 +245,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡ
+	 * 取分区
 	 * @return
 	 */
 	public Integer getPartition() {
@@ -253,7 +253,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * Զ̻IP
+	 * 设置远程机器IP
 	 * @param ip
 	 */
 	public void setIP(String ip) {
@@ -261,7 +261,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡԶ̻IP
+	 * 取远程机器IP
 	 * @return IP
 	 */
 	public String getIP() {
@@ -269,7 +269,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * Զ̻˿
+	 * 设置远程机器端口
 	 * @param port
 	 */
 	public void setPort(int port) {
@@ -277,15 +277,15 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡԶ̻˿
-	 * @return ˿
+	 * 取远程机器端口
+	 * @return 端口
 	 */
 	public int getPort() {
 		return port;
 	}
 
 	/**
-	 * ȡļ
+	 * 取文件名
 	 * @return
 	 */
 	public String getFileName() {
@@ -293,7 +293,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ļ
+	 * 设置文件名
 	 * @param name
 	 */
 	public void setFileName(String name) {
@@ -301,7 +301,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡַ
+	 * 取字符集
 	 * @return
 	 */
 	public String getCharset() {
@@ -309,7 +309,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ļ
+	 * 返回文件名
 	 * @return String
 	 */
 	public String toString() {
@@ -317,10 +317,10 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * һļγз
-	 * @param opt String tһΪ⣬bļcдɶŷָcsvļ
-	 * 	sֶΣɵֶδɵiֻ1ʱس
-	 * 	qֶδȰ룬ⲿ֣k˵Ŀհ׷ȱʡԶtrim
+	 * 读入一个文件，形成排列返回
+	 * @param opt String t：第一行为标题，b：二进制文件，c：写成逗号分隔的csv文件
+	 * 	s：不拆分字段，读成单字段串构成的序表，i：结果集只有1列时返回成序列
+	 * 	q：如果字段串外有引号则先剥离，包括标题部分，k：保留数据项两端的空白符，缺省将自动做trim
 	 * @throws IOException
 	 * @return Sequence
 	 */
@@ -340,16 +340,16 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * һļγз
-	 * @param segSeq int κţ1ʼ
-	 * @param segCount int ֶ
-	 * @param fields String[] ѡֶ
-	 * @param types byte[] ѡֶͣɿաcom.scudata.common.Types
-	 * @param s Object excel sheetţзָ
-	 * @param opt String tһΪ⣬bļcдɶŷָcsvļ
-	 * 	sֶΣɵֶδɵiֻ1ʱس
-	 * 	qֶδȰ룬ⲿ֣k˵Ŀհ׷ȱʡԶtrim
-	 * 	eFiļвʱnullȱʡ
+	 * 读入一个文件，形成排列返回
+	 * @param segSeq int 段号，从1开始计数
+	 * @param segCount int 分段数
+	 * @param fields String[] 选出字段名
+	 * @param types byte[] 选出字段类型，可空。参照com.scudata.common.Types
+	 * @param s Object excel sheet名（序号）或列分隔符
+	 * @param opt String t：第一行为标题，b：二进制文件，c：写成逗号分隔的csv文件
+	 * 	s：不拆分字段，读成单字段串构成的序表，i：结果集只有1列时返回成序列
+	 * 	q：如果字段串外有引号则先剥离，包括标题部分，k：保留数据项两端的空白符，缺省将自动做trim
+	 * 	e：Fi在文件中不存在时将生成null，缺省将报错
 	 * @param ctx Context
 	 * @throws IOException
 	 * @return Sequence
@@ -381,10 +381,10 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ıxlsxlsxļ
-	 * @param importer LineImporterExcelToolExcelXTool
-	 * @param opt tһΪ
-	 * @return 
+	 * 导入文本、xls、xlsx文件
+	 * @param importer 可以是LineImporter、ExcelTool、ExcelXTool
+	 * @param opt t：第一行为标题
+	 * @return 序表
 	 * @throws IOException
 	 */
 	public static Table import_x(ILineInput importer, String opt) throws IOException {
@@ -428,9 +428,9 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * ȡегԱ󳤶
-	 * @param seq ɵ
-	 * @return 󳤶
+	 * 取序列的序列成员的最大长度
+	 * @param seq 序列组成的序列
+	 * @return 最大长度
 	 */
 	public static int getMaxMemberCount(Sequence seq) {
 		int len = seq.length();
@@ -451,12 +451,12 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * 
-	 * @param exporter LineExporterExcelToolExcelXTool
-	 * @param series 
-	 * @param exps Ҫֶαʽnull򵼳ֶ
-	 * @param names ֶ
-	 * @param bTitle Ƿ񵼳ֶ
+	 * 导出排列
+	 * @param exporter 可以是LineExporter、ExcelTool、ExcelXTool
+	 * @param series 排列
+	 * @param exps 要导出的字段表达式，如果null则导出所有字段
+	 * @param names 导出后的字段名
+	 * @param bTitle 是否导出字段名
 	 * @param ctx
 	 * @throws IOException
 	 */
@@ -480,7 +480,7 @@ public class FileObject implements Externalizable {
 						exporter.writeLine(lineObjs);
 					}
 				} else {
-					// Aеʱޱ/ֶĶı
+					// A是序列的序列时，生成无标题/字段名的多列文本
 					Object []lineObjs = new Object[fcount];
 					for (int i = 1; i <= len; ++i) {
 						Sequence seq = (Sequence)series.getMem(i);
@@ -549,12 +549,12 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * 
-	 * @param exporter LineExporterExcelToolExcelXTool
-	 * @param cursor α
-	 * @param exps Ҫֶαʽnull򵼳ֶ
-	 * @param names ֶ
-	 * @param bTitle Ƿ񵼳ֶ
+	 * 导出排列
+	 * @param exporter 可以是LineExporter、ExcelTool、ExcelXTool
+	 * @param cursor 游标
+	 * @param exps 要导出的字段表达式，如果null则导出所有字段
+	 * @param names 导出后的字段名
+	 * @param bTitle 是否导出字段名
 	 * @param ctx
 	 * @throws IOException
 	 */
@@ -644,22 +644,22 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ֶεļ
+	 * 将排列所有字段导出到文件中
 	 * @param series Sequence
-	 * @param opt String ⣬cдɶŷָcsvļbļa׷д
-	 * @param s Object excel sheetзָĬϵ
+	 * @param opt String ｔ：导出标题，c：写成逗号分隔的csv文件，b：二进制文件，a：追加写
+	 * @param s Object excel sheet名或列分隔符，空用默认的
 	 */
 	public void exportSeries(Sequence series, String opt, Object s) {
 		exportSeries(series, null, null, opt, s, null);
 	}
 
 	/**
-	 * еֶָεļ
+	 * 将排列的指定字段导出到文件中
 	 * @param series Sequence
-	 * @param exps Expression[] Ҫֵʽձʾֶ
-	 * @param names String[] ֵʽӦ֣ʡֵʽ
-	 * @param opt String t⣬cдɶŷָcsvļbļa׷д
-	 * @param s Object excel sheetзָĬϵ
+	 * @param exps Expression[] 要导出的值表达式，空表示导出所有字段
+	 * @param names String[] 值表达式对应的名字，省略用值表达式串
+	 * @param opt String t：导出标题，c：写成逗号分隔的csv文件，b：二进制文件，a：追加写
+	 * @param s Object excel sheet名或列分隔符，空用默认的
 	 * @param ctx Context
 	 */
 	public void exportSeries(Sequence series, Expression []exps,
@@ -743,12 +743,12 @@ public class FileObject implements Externalizable {
 	}
 		
 	/**
-	 * cursorı
+	 * 导出cursor到文本
 	 * @param cursor ICursor
-	 * @param exps Expression[] Ҫֵʽձʾֶ
-	 * @param names String[] ֵʽӦ֣ʡֵʽ
-	 * @param opt String ⣬cдɶŷָcsvļbļa׷д
-	 * @param s Object зָ
+	 * @param exps Expression[] 要导出的值表达式，空表示导出所有字段
+	 * @param names String[] 值表达式对应的名字，省略用值表达式串
+	 * @param opt String ｔ：导出标题，c：写成逗号分隔的csv文件，b：二进制文件，a：追加写
+	 * @param s Object 列分隔符
 	 * @param ctx Context
 	 */
 	public void exportCursor(ICursor cursor, Expression []exps,
@@ -827,11 +827,11 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * 鵼α꣬ɿɰֶεĶļ
-	 * @param cursor α
-	 * @param exps ֵֶʽ
-	 * @param names ֶ
-	 * @param gexp ʽֻȽ
+	 * 按组导出游标，生成可按组分段的二进制文件
+	 * @param cursor 游标
+	 * @param exps 导出字段值表达式
+	 * @param names 导出字段名
+	 * @param gexp 分组表达式，只比较相邻
 	 * @param opt
 	 * @param ctx
 	 */
@@ -842,11 +842,11 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * ʼλöλãᱣݣڲӲٶ
-	 * @param in 
-	 * @param start ʼλ
-	 * @param end λ
-	 * @return ֽ
+	 * 从输入流的起始位置读到结束位置，不会保存读入的内容，用于测试硬盘速度
+	 * @param in 输入流
+	 * @param start 起始位置
+	 * @param end 结束位置
+	 * @return 读的字节数
 	 * @throws IOException
 	 */
 	private static Object read0(InputStream in, long start, long end) throws IOException {
@@ -878,10 +878,10 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡеֽ
+	 * 读取输入流中的所有字节
 	 * @param in InputStream
-	 * @param start long ʼλã0ʼ
-	 * @param end long λã0ʼ-1ʾβ
+	 * @param start long 起始位置，从0开始计数，包括
+	 * @param end long 结束位置，从0开始计数，包括，-1表示结尾
 	 * @throws IOException
 	 * @return byte[]
 	 */
@@ -925,10 +925,10 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ļתַ
-	 * @param start long ʼλã0ʼ
-	 * @param end long λã0ʼ-1ʾβ
-	 * @param opt String nسɴУbbyte飬vֵ
+	 * 把文件内容转成字符串返回
+	 * @param start long 起始位置，从0开始计数，包括
+	 * @param end long 结束位置，从0开始计数，包括，-1表示结尾
+	 * @param opt String n：返回成串序列，b：读成byte数组，v：读成值
 	 * @throws IOException
 	 * @return Object
 	 */
@@ -982,9 +982,9 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * Ѷд뵽ļ
+	 * 把对象写入到文件中
 	 * @param obj Objcet
-	 * @param opt String a׷дbдbyte
+	 * @param opt String a：追加写，b：写成byte数组
 	 * @throws IOException
 	 */
 	public void write(Object obj, String opt) throws IOException {
@@ -1040,7 +1040,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡ
+	 * 取输入流
 	 * @return InputStream
 	 */
 	public InputStream getInputStream() {
@@ -1048,7 +1048,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡ
+	 * 取按块读入的输入流
 	 * @return
 	 */
 	public BlockInputStream getBlockInputStream() {
@@ -1056,8 +1056,8 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡ
-	 * @param bufSize С
+	 * 取按块读入的输入流
+	 * @param bufSize 块大小
 	 * @return BlockInputStream
 	 */
 	public BlockInputStream getBlockInputStream(int bufSize) {
@@ -1066,8 +1066,8 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡ
-	 * @param isAppend Ƿ׷д
+	 * 取输出流
+	 * @param isAppend 是否追加写
 	 * @return OutputStream
 	 */
 	public OutputStream getOutputStream(boolean isAppend) {
@@ -1083,7 +1083,7 @@ public class FileObject implements Externalizable {
 				}
 				
 				if (lock == null) {
-					throw new RQException("һļһ֣޷");
+					throw new RQException("另一个程序已锁定文件的一部分，进程无法访问");
 				}
 			} else {
 				FileChannel channel = fos.getChannel();
@@ -1107,8 +1107,8 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡ
-	 * @param isAppend Ƿ׷д
+	 * 取带缓存的输出流
+	 * @param isAppend 是否追加写
 	 * @return OutputStream
 	 */
 	public OutputStream getBufferedOutputStream(boolean isAppend) {
@@ -1117,8 +1117,8 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * ȡɸλõ
-	 * @param isAppend Ƿ׷д
+	 * 取可更改输出位置的输出流
+	 * @param isAppend 是否追加写
 	 * @return RandomOutputStream
 	 */
 	public RandomOutputStream getRandomOutputStream(boolean isAppend) {
@@ -1140,14 +1140,14 @@ public class FileObject implements Externalizable {
 			} catch (IOException e) {
 			}
 			
-			throw new RQException("һļһ֣޷");
+			throw new RQException("另一个程序已锁定文件的一部分，进程无法访问");
 		}
 
 		return os;
 	}
 
 	/**
-	 * ȡļ
+	 * 取本地文件
 	 * @return LocalFile
 	 */
 	public LocalFile getLocalFile() {
@@ -1159,7 +1159,7 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * ȡļ
+	 * 取文件
 	 * @return IFile
 	 */
 	public IFile getFile() {
@@ -1179,7 +1179,7 @@ public class FileObject implements Externalizable {
 			RemoteFile rf = new RemoteFile(ip, port, pathFile, partition);
 			rf.setOpt(opt);
 			if( isRemoteFileWritable ){
-				// Ƿд
+				// 增加是否可写属性
 				rf.setWritable();
 			}
 			
@@ -1194,23 +1194,23 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ǷԶļ
-	 * @return trueԶļfalseԶļ
+	 * 返回是否是远程文件
+	 * @return true：是远程文件，false：不是远程文件
 	 */
 	public boolean isRemoteFile() {
 		return ip != null;// && !(ip.equals(Env.getLocalHost()) && port == Env.getLocalPort());
 	}
 	
 	/**
-	 * ļǷ
-	 * @return boolean trueڣfalse
+	 * 返回文件是否存在
+	 * @return boolean true：存在，false：不存在
 	 */
 	public boolean isExists() {
 		return getFile().exists();
 	}
 
 	/**
-	 * ļĴС
+	 * 返回文件的大小
 	 * @return
 	 */
 	public long size() {
@@ -1218,7 +1218,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ļ޸ʱ䣬URLļjarļ򷵻-1
+	 * 返回文件最后修改时间，如果是URL文件或jar包里的文件则返回-1
 	 * @return Date
 	 */
 	public Timestamp lastModified() {
@@ -1231,16 +1231,16 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ɾļ
-	 * @return trueɹfalseʧ
+	 * 删除文件
+	 * @return true：成功，false：失败
 	 */
 	public boolean delete() {
 		return getFile().delete();
 	}
 	
 	/**
-	 * ɾĿ¼Ŀ¼
-	 * @return trueɹfalseʧ
+	 * 删除目录及其子目录
+	 * @return true：成功，false：失败
 	 */
 	public boolean deleteDir() {
 		return getFile().deleteDir();
@@ -1249,8 +1249,8 @@ public class FileObject implements Externalizable {
 	/**
 	 *
 	 * @param dest String
-	 * @param opt String yĿļѴʱǿиȱʡʧܣcƣ
-	 * 					 pĿļĿ¼Ŀ¼ĬԴļĸĿ¼
+	 * @param opt String y：目标文件已存在时强行复制缺省将失败，c：复制，
+	 * 					 p：目标文件是相对目录是相对于主目录，默认是相对于源文件的父目录
 	 * @return boolean
 	 */
 	public boolean move(String dest, String opt) {
@@ -1258,9 +1258,9 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ȡļ
-	 * @param key String ֵ
-	 * @param opt String vparse
+	 * 取属性文件的属性
+	 * @param key String 键值
+	 * @param opt String v：做parse
 	 * @throws IOException
 	 * @return Object
 	 */
@@ -1293,9 +1293,9 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ļ{"name", "value"}Ϊṹ
-	 * @param opt ѡ
-	 * @return 
+	 * 把属性文件读成以{"name", "value"}为结构的序表
+	 * @param opt 选项
+	 * @return 序表
 	 * @throws IOException
 	 */
 	public Table getProperties(String opt) throws IOException {
@@ -1312,10 +1312,10 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * {"name", "value"}Ϊṹ
+	 * 把属读成以{"name", "value"}为结构的序表
 	 * @param properties Properties
-	 * @param opt ѡ
-	 * @return 
+	 * @param opt 选项
+	 * @return 序表
 	 * @throws IOException
 	 */
 	public static Table getProperties(Properties properties, String opt) {
@@ -1353,25 +1353,25 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * ļڵĿ¼һʱļ
-	 * @param prefix ǰ׺
-	 * @return ʱļ·
+	 * 在文件对象所在的目录创建一个临时文件
+	 * @param prefix 前缀
+	 * @return 临时文件路径名
 	 */
 	public String createTempFile(String prefix) {
 		return getFile().createTempFile(prefix);
 	}
 
 	/**
-	 * ļڵĿ¼һʱļ
-	 * @return ʱļ·
+	 * 在文件对象所在的目录创建一个临时文件
+	 * @return 临时文件路径名
 	 */
 	public String createTempFile() {
 		return getFile().createTempFile(TEMPFILE_PREFIX);
 	}
 	
 	/**
-	 * ļڵĿ¼һʱļ
-	 * @return FileObject ʱļ
+	 * 在文件对象所在的目录创建一个临时文件
+	 * @return FileObject 临时文件对象
 	 */
 	public static FileObject createTempFileObject() {
 		String path = Env.getTempPath();
@@ -1389,7 +1389,7 @@ public class FileObject implements Externalizable {
 	}
 
 	/**
-	 * dfxļ
+	 * 把dfx文件读成网格对象
 	 * @return PgmCellSet
 	 */
 	public PgmCellSet readPgmCellSet() {
@@ -1416,7 +1416,7 @@ public class FileObject implements Externalizable {
 	}
 
 	public void writeExternal(ObjectOutput out) throws IOException {
-		out.writeByte(1); // 汾
+		out.writeByte(1); // 版本号
 
 		out.writeObject(fileName);
 		out.writeObject(charset);
@@ -1428,7 +1428,7 @@ public class FileObject implements Externalizable {
 	}
 
 	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-		in.readByte(); // 汾
+		in.readByte(); // 版本号
 
 		fileName = (String) in.readObject();
 		charset = (String) in.readObject();
@@ -1440,7 +1440,7 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * ļС
+	 * 设置文件大小
 	 * @param size
 	 */
 	public void setFileSize(long size) {
@@ -1451,13 +1451,13 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * ȡļ
-	 * @return FILETYPE_TEXTFILETYPE_BINARYFILETYPE_SIMPLETABLEFILETYPE_GROUPTABLE
+	 * 取文件类型
+	 * @return 返回FILETYPE_TEXT、FILETYPE_BINARY、FILETYPE_SIMPLETABLE、FILETYPE_GROUPTABLE
 	 */
 	public int getFileType() {
 		InputStream is = null;
 		try {
-			// (rqgt)(rqst)Ƽļ(rqtbx)
+			// 组表(rqgt)、简表(rqst)、二进制集文件(rqtbx)
 			is = getFile().getInputStream();
 			if (is.read() == 'r' && is.read() == 'q') {
 				int b = is.read();
@@ -1488,7 +1488,7 @@ public class FileObject implements Externalizable {
 	}
 	
 	/**
-	 * ļļSQLѯ
+	 * 创建基于文件的简单SQL查询
 	 * @return FileObject
 	 */
 	public static FileObject createSimpleQuery() {
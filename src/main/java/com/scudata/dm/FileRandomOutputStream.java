@@ -9,7 +9,7 @@ import java.nio.channels.OverlappingFileLockException;
 import com.scudata.common.RQException;
 
 /**
- * Ըıλõ
+ * 可以改变输出位置的输出流
  * @author WangXiaoJun
  *
  */
@@ -18,7 +18,7 @@ public class FileRandomOutputStream extends RandomOutputStream {
 	private FileChannel channel;
 	
 	/**
-	 * RandomAccessFileԸıλõ
+	 * 由RandomAccessFile创建可以改变输出位置的输出流
 	 * @param file RandomAccessFile
 	 */
 	public FileRandomOutputStream(RandomAccessFile file) {
@@ -26,7 +26,7 @@ public class FileRandomOutputStream extends RandomOutputStream {
 	}
 	
 	/**
-	 * ȡļܵ
+	 * 取文件管道
 	 * @return FileChannel
 	 */
 	public FileChannel getChannel() {
@@ -38,8 +38,8 @@ public class FileRandomOutputStream extends RandomOutputStream {
 	}
 	
 	/**
-	 * ȡ
-	 * @param pos ļλ
+	 * 取输入流
+	 * @param pos 文件位置
 	 */
 	public InputStream getInputStream(long pos) throws IOException {
 		FileChannel channel = getChannel();
@@ -48,14 +48,14 @@ public class FileRandomOutputStream extends RandomOutputStream {
 	}
 	
 	/**
-	 * ļֹһ߳޸
+	 * 锁定文件，防止被另一个线程修改
 	 */
 	public boolean tryLock() throws IOException {
 		return getChannel().tryLock() != null;
 	}
 	
 	/**
-	 * ļֹһ߳޸
+	 * 锁定文件，防止被另一个线程修改
 	 */
 	public boolean lock() throws IOException {
 		FileChannel channel = getChannel();
@@ -75,49 +75,49 @@ public class FileRandomOutputStream extends RandomOutputStream {
 	}
 	
 	/**
-	 * һλ
-	 * @param newPosition λ
+	 * 设置下一步的输出位置
+	 * @param newPosition 位置
 	 */
 	public void position(long newPosition) throws IOException{
 		file.seek(newPosition);
 	}
 	
 	/**
-	 * صǰλ
-	 * @return long λ
+	 * 返回当前的输出位置
+	 * @return long 位置
 	 */
 	public long position() throws IOException {
 		return file.getFilePointer();
 	}
 	
 	/**
-	 * дһֽ
-	 * @param b ֵֽ
+	 * 写入一个字节
+	 * @param b 字节值
 	 */
 	public void write(int b) throws IOException {
 		file.write(b);
 	}
 
 	/**
-	 * дһֽ
-	 * @param b ֽ
+	 * 写入一个字节数组
+	 * @param b 字节数组
 	 */
 	public void write(byte b[]) throws IOException {
 		file.write(b);
 	}
 	
 	/**
-	 * дһֽ
-	 * @param b ֽ
-	 * @param off ʼλ
-	 * @param len 
+	 * 写入一个字节数组
+	 * @param b 字节数组
+	 * @param off 起始位置
+	 * @param len 长度
 	 */
 	public void write(byte b[], int off, int len) throws IOException {
 		file.write(b, off, len);
 	}
 
 	/**
-	 * ر
+	 * 关闭输出流
 	 */
 	public void close() throws IOException {
 		file.close();
@@ -15,19 +15,19 @@ import com.scudata.thread.ThreadPool;
 import com.scudata.util.HashUtil;
 
 /**
- * ִgroupsͬαȡݲhash
+ * 用于执行groups的任务同步从游标读取数据并计算hash
  * @author LW
  *
  */
 public class GroupsSyncReader {
 	private CursorReadJob readers[];
 	private int tcount;
-	private IntArray curTimes;//¼ǰ鱻ȡ˶ٴ
-	private ObjectArray datas;//Ҫȡ
+	private IntArray curTimes;//记录当前块被取了多少次
+	private ObjectArray datas;//要取的数据
 	private ThreadPool threadPool;
 	private boolean close;
 	
-	//ȡ̴߳αȡݣȻ浽
+	//取数线程从游标里取到的数据，先缓存到这个队列
 	private Queue<Object[]> readyDatas = new LinkedList<Object[]>();
 	
 	public GroupsSyncReader(ICursor[] cursors, Expression[] exps, HashUtil hashUtil, Context ctx) {
@@ -51,7 +51,7 @@ public class GroupsSyncReader {
 		this.threadPool = threadPool;
 	}
 	
-	//ȴ߳ȡ е˵ȡ
+	//等待线程完成取数。 运行到这里说明分组比取数快
 	private void waitReadData() {
 		if (close) {
 			return;
@@ -75,13 +75,13 @@ public class GroupsSyncReader {
 		}
 	}
 	
-	//ѻ͵datas
+	//把缓存队列里的数据送到datas里
 	private void loadData() {
 		if (close) {
 			return;
 		}
 		
-		//û
+		//如果缓存队列里没有数据
 		if (readyDatas.size() == 0) {
 			waitReadData();
 			if (readyDatas.size() == 0) {
@@ -91,7 +91,7 @@ public class GroupsSyncReader {
 			}
 		}
 		
-		//readyDatas͵datas
+		//把readyDatas的所有数据送到datas里
 		synchronized (readyDatas) {
 			int size = readyDatas.size();
 			if (size > 0) {
@@ -105,9 +105,9 @@ public class GroupsSyncReader {
 	}
 	
 	/**
-	 * ȡһ
-	 * @param index 
-	 * @return ݸʽ:[ȡ, , hash]
+	 * 读取一块数据
+	 * @param index 块号
+	 * @return 数据格式:[读取的数据, 分组列数据, hash列数据]
 	 */
 	public synchronized Object[] getData(int index) {
 		if (close && index > datas.size()) {
@@ -121,15 +121,15 @@ public class GroupsSyncReader {
 			}
 		}
 
-		Object[] data = (Object[]) datas.get(index);//ݿȡ
-		int[] curTimesData = curTimes.getDatas();//Ӧŵļ++
+		Object[] data = (Object[]) datas.get(index);//根据块号取数
+		int[] curTimesData = curTimes.getDatas();//对应块号的计数器++
 		curTimesData[index]++;
 		
-		//һ鱻ⲿ̶߳ȡ
+		//如果这一块被所有外部线程都取过了
 		if (curTimesData[index] == tcount) {
-			datas.set(index, null);//
+			datas.set(index, null);//清除
 			
-			//ӻȡһ
+			//从缓存取一块数据
 			synchronized (readyDatas) {
 				if (readyDatas.size() > 0) {
 					datas.add(readyDatas.poll());
@@ -146,23 +146,23 @@ public class GroupsSyncReader {
 }
 
 class CursorReadJob extends Job {
-	private ICursor cursor; // Ҫȡα
-	private int fetchCount; // ÿζȡ
+	private ICursor cursor; // 要取数的游标
+	private int fetchCount; // 每次读取的数据量
 	private boolean isClosed;
 	
-	private Expression[] exps;// hash
+	private Expression[] exps;// 计算hash的列
 	private int keyCount;
 	private Context ctx;
 	private HashUtil hashUtil;
-	private int []hashCodes; // ڱÿֶεĹϣֵ
+	private int []hashCodes; // 用于保存每个分组字段的哈希值
 	
 	private Queue<Object[]> readyDatas;
 	private int maxCacheSize;
 	/**
-	 * αȡʹgetTableõȡ
-	 * @param threadPool ̳߳
-	 * @param cursor α
-	 * @param fetchCount ÿζȡ
+	 * 创建从游标取数的任务，使用getTable得到取数结果
+	 * @param threadPool 线程池
+	 * @param cursor 游标
+	 * @param fetchCount 每次读取的数据量
 	 */
 	public CursorReadJob(ICursor cursor, int fetchCount, Expression[] exps, 
 			HashUtil hashUtil, Context ctx, int maxCacheSize, Queue<Object[]> readyDatas) {
@@ -180,7 +180,7 @@ class CursorReadJob extends Job {
 	}
 
 	/**
-	 * ̵̳߳߳ãαȡ
+	 * 被线程池里的线程调用，从游标读取数据
 	 */
 	public void run() {
 		HashUtil hashUtil = this.hashUtil;
@@ -237,7 +237,7 @@ class CursorReadJob extends Job {
 			}
 			
 			while (readyDatas.size() > maxCacheSize) {
-				//ֻеȡȷʱܽ
+				//只有当取数比分组快时会跑进来
 				try {
 					Thread.sleep(5);
 				} catch (InterruptedException e) {
@@ -13,15 +13,15 @@ import com.scudata.util.HashUtil;
 import com.scudata.util.Variant;
 
 /**
- * ɶֶĹϣ
+ * 由多字段主键创建的哈希表
  * @author WangXiaoJun
  *
  */
 class HashArrayIndexTable extends IndexTable {
-	// ڴŹϣԪأϣֵͬԪ洢
+	// 用于存放哈希表里的元素，哈希值相同的元素用链表存储
 	private static class Entry {
 		Object []keys;
-		int seq; // Ӧļ¼е
+		int seq; // 对应的记录在码表中的序号
 		Entry next;
 		
 		public Entry(Object []keys, int seq) {
@@ -36,15 +36,15 @@ class HashArrayIndexTable extends IndexTable {
 		}
 	}
 	
-	// ڶ̴߳ϣ
+	// 用于多线程创建哈希表
 	private static class CreateJob extends Job {
 		private HashUtil hashUtil;
 		private Sequence code;
 		private int []fields;
-		private int start; // ʼλã
-		private int end; // λã
+		private int start; // 起始位置，包括
+		private int end; // 结束位置，不包括
 		
-		Entry []entries; // hashֵ
+		Entry []entries; // 按hash值分组
 		
 		public CreateJob(HashUtil hashUtil, Sequence code, int []fields, int start, int end) {
 			this.hashUtil = hashUtil;
@@ -94,19 +94,19 @@ class HashArrayIndexTable extends IndexTable {
 		}
 	}
 	
-	private Sequence code; // ԴϣŵԪصλãҪλõԴȡԪ
-	protected HashUtil hashUtil; // ڼϣֵ
-	protected Entry[] entries; // hashֵ
-	private boolean useMultithread; // ʹö̴߳
+	private Sequence code; // 源表，哈希表存放的是元素的位置，需要根据位置到源表取元素
+	protected HashUtil hashUtil; // 用于计算哈希值
+	protected Entry[] entries; // 按hash值分组
+	private boolean useMultithread; // 使用多线程创建索引
 	
 	public HashArrayIndexTable(int capacity) {
 		hashUtil = new HashUtil(capacity);
 	}
 	
 	/**
-	 * ϣ
-	 * @param capacity ϣ
-	 * @param opt ѡmö̴߳ϣ
+	 * 构建哈希表
+	 * @param capacity 哈希表容量
+	 * @param opt 选项，m：用多线程创建哈希表
 	 */
 	public HashArrayIndexTable(int capacity, String opt) {
 		hashUtil = new HashUtil(capacity);
@@ -120,7 +120,7 @@ class HashArrayIndexTable extends IndexTable {
 	}
 	
 	/**
-	 * ȡϣ
+	 * 取哈希表容量
 	 * @return
 	 */
 	public int getCapacity() {
@@ -128,10 +128,10 @@ class HashArrayIndexTable extends IndexTable {
 	}
 
 	/**
-	 * ϣ
-	 * @param code Դ
-	 * @param exps ֶαʽ
-	 * @param ctx 
+	 * 创建哈希表
+	 * @param code 源数据
+	 * @param exps 字段表达式数组
+	 * @param ctx 计算上下文
 	 */
 	public void create(Sequence code, Expression []exps, Context ctx) {
 		this.code = code;
@@ -177,7 +177,7 @@ class HashArrayIndexTable extends IndexTable {
 		}
 	}
 	
-	// ϲϣ
+	// 合并哈希表
 	private static void combineHashGroups(Entry []result, Entry []entries) {
 		int len = result.length;
 		for (int i = 0; i < len; ++i) {
@@ -186,7 +186,7 @@ class HashArrayIndexTable extends IndexTable {
 			} else if (entries[i] != null) {
 				Entry entry = entries[i];
 				while (true) {
-					// ȽϹϣֵͬԪǷֵҲͬ
+					// 比较哈希值相同的元素是否值也相同
 					for (Entry resultEntry = result[i]; resultEntry != null; resultEntry = resultEntry.next) {
 						if (Variant.compareArrays(entry.keys, resultEntry.keys) == 0) {
 							Object []keys = entry.keys;
@@ -217,9 +217,9 @@ class HashArrayIndexTable extends IndexTable {
 	}
 	
 	/**
-	 * еֶָΪϣ
-	 * @param code Դ
-	 * @param fields ֶɵ
+	 * 由排列的指定字段为键创建哈希表
+	 * @param code 源排列
+	 * @param fields 字段索引组成的数组
 	 */
 	public void create(Sequence code, int []fields) {
 		this.code = code;
@@ -266,8 +266,8 @@ class HashArrayIndexTable extends IndexTable {
 	}
 
 	/**
-	 * ɼԪأҲؿ
-	 * @param keys ֵ
+	 * 由键查找元素，找不到返回空
+	 * @param keys 键值数组
 	 */
 	public Object find(Object []keys) {
 		int count = keys.length;
@@ -282,10 +282,10 @@ class HashArrayIndexTable extends IndexTable {
 	}
 
 	/**
-	 * й
-	 * @param exp ˱ʽ
+	 * 由索引进行过滤生成序表并创建新索引
+	 * @param exp 过滤表达式
 	 * @param ctx
-	 * @return Table ļ¼ɵ
+	 * @return Table 满足条件的记录构成的新序表
 	 */
 	public Table select(Expression exp, Context ctx) {
 		Sequence code = this.code;
@@ -346,8 +346,8 @@ class HashArrayIndexTable extends IndexTable {
 	}
 	
 	/**
-	 * ɼԪλ
-	 * @param keys ֵ
+	 * 由键查找元素位置
+	 * @param keys 键值数组
 	 */
 	public int findPos(Object []keys) {
 		int count = keys.length;
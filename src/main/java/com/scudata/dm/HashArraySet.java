@@ -4,12 +4,12 @@ import com.scudata.util.HashUtil;
 import com.scudata.util.Variant;
 
 /**
- * ɶֶĹϣϣ
+ * 由多字段主键创建的哈希表，用于做哈希查找
  * @author WangXiaoJun
  *
  */
 public class HashArraySet {
-	// ڴŹϣԪأϣֵͬԪ洢
+	// 用于存放哈希表里的元素，哈希值相同的元素用链表存储
 	private static class Entry {
 		Object []keys;
 		Entry next;
@@ -20,11 +20,11 @@ public class HashArraySet {
 		}
 	}
 	
-	protected HashUtil hashUtil; // ڼϣֵ
-	protected Entry[] entries; // hashֵ
+	protected HashUtil hashUtil; // 用于计算哈希值
+	protected Entry[] entries; // 按hash值分组
 	
 	/**
-	 * ϣ鼯
+	 * 构建哈希数组集合
 	 */
 	public HashArraySet() {
 		hashUtil = new HashUtil();
@@ -32,8 +32,8 @@ public class HashArraySet {
 	}
 	
 	/**
-	 * ϣ鼯
-	 * @param capacity ϣ
+	 * 构建哈希数组集合
+	 * @param capacity 哈希表容量
 	 */
 	public HashArraySet(int capacity) {
 		hashUtil = new HashUtil(capacity);
@@ -41,9 +41,9 @@ public class HashArraySet {
 	}
 	
 	/**
-	 * 뵽ϣѾִֵָͬκβ
-	 * @param keys ֵ
-	 * @return boolean Ѱָ򷵻false򷵻true
+	 * 把数组加入到集合，如果集合中已经有数组跟参数指定的数组值相同则不执行任何操作
+	 * @param keys 值数组
+	 * @return boolean 如果集合中已包含指定数组则返回false，否则返回true
 	 */
 	public boolean put(Object []keys) {
 		int keyCount = keys.length;
@@ -59,9 +59,9 @@ public class HashArraySet {
 	}
 	
 	/**
-	 * ؼǷָ
-	 * @param keys ֵ
-	 * @return boolean truefalse
+	 * 返回集合中是否包含指定数组
+	 * @param keys 值数组
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object []keys) {
 		int count = keys.length;
@@ -5,15 +5,15 @@ import com.scudata.array.IArray;
 import com.scudata.util.HashUtil;
 
 /**
- * йϣcontainspos
+ * 序列哈希索引，可用于contains、pos函数
  * @author WangXiaoJun
  *
  */
 public class HashIndexSequence extends IndexTable {
-	private IArray valueArray; // Ԫֵ
-	protected HashUtil hashUtil; // ڼϣֵ
-	private int []entries; // ϣŹϣֵӦһ¼λ
-	private int []linkArray; // ϣֵͬļ¼
+	private IArray valueArray; // 序列元素值数组
+	protected HashUtil hashUtil; // 用于计算哈希值
+	private int []entries; // 哈希表，存放着哈希值对应的最后一条记录的位置
+	private int []linkArray; // 哈希值相同的记录链表
 	
 	public HashIndexSequence(Sequence code) {
 		IArray valueArray = code.getMems();
@@ -35,7 +35,7 @@ public class HashIndexSequence extends IndexTable {
 	}
 	
 	/**
-	 * ȡϣ
+	 * 取哈希表容量
 	 * @return
 	 */
 	public int getCapacity() {
@@ -43,8 +43,8 @@ public class HashIndexSequence extends IndexTable {
 	}
 	
 	/**
-	 * ɼԪأҲؿ
-	 * @param key ֵ
+	 * 由键查找元素，找不到返回空
+	 * @param key 键值
 	 */
 	public Object find(Object key) {
 		int seq = hashUtil.hashCode(key);
@@ -62,16 +62,16 @@ public class HashIndexSequence extends IndexTable {
 	}
 
 	/**
-	 * ɼԪأҲؿ
-	 * @param keys Ϊ1ļֵ
+	 * 由键查找元素，找不到返回空
+	 * @param keys 长度为1的键值数组
 	 */
 	public Object find(Object []keys) {
 		return find(keys[0]);
 	}
 	
 	/**
-	 * ɼԪţҲ0
-	 * @param key ֵ
+	 * 由键查找元素序号，找不到返回0
+	 * @param key 键值
 	 */
 	public int findPos(Object key) {
 		int seq = hashUtil.hashCode(key);
@@ -89,8 +89,8 @@ public class HashIndexSequence extends IndexTable {
 	}
 	
 	/**
-	 * ɼԪţҲ01
-	 * @param key ֵ
+	 * 由键查找元素序号，找不到返回01
+	 * @param key 键值
 	 */
 	public int findPos(Object[] keys) {
 		return findPos(keys[0]);
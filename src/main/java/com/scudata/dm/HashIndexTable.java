@@ -13,15 +13,15 @@ import com.scudata.util.HashUtil;
 import com.scudata.util.Variant;
 
 /**
- * ֶ
+ * 单字段主键索引
  * @author WangXiaoJun
  *
  */
 public class HashIndexTable extends IndexTable {
-	// ڴŹϣԪأϣֵͬԪ洢
+	// 用于存放哈希表里的元素，哈希值相同的元素用链表存储
 	private static class Entry {
 		Object key;
-		int seq; // Ӧļ¼е
+		int seq; // 对应的记录在码表中的序号
 		Entry next;
 		
 		public Entry(Object key, int seq) {
@@ -36,15 +36,15 @@ public class HashIndexTable extends IndexTable {
 		}
 	}
 
-	// ڶ̴߳ϣ
+	// 用于多线程创建哈希表
 	private static class CreateJob extends Job {
 		private HashUtil hashUtil;
 		private Sequence code;
 		private int field;
-		private int start; // ʼλã
-		private int end; // λã
+		private int start; // 起始位置，包括
+		private int end; // 结束位置，不包括
 		
-		Entry []entries; // hashֵ
+		Entry []entries; // 按hash值分组
 		
 		public CreateJob(HashUtil hashUtil, Sequence code, int field, int start, int end) {
 			this.hashUtil = hashUtil;
@@ -80,19 +80,19 @@ public class HashIndexTable extends IndexTable {
 		}
 	}
 	
-	private Sequence code; // ԴϣŵԪصλãҪλõԴȡԪ
-	protected HashUtil hashUtil; // ڼϣֵ
-	protected Entry []entries; // hashֵ
-	private boolean useMultithread; // ʹö̴߳
+	private Sequence code; // 源表，哈希表存放的是元素的位置，需要根据位置到源表取元素
+	protected HashUtil hashUtil; // 用于计算哈希值
+	protected Entry []entries; // 按hash值分组
+	private boolean useMultithread; // 使用多线程创建索引
 	
 	public HashIndexTable(int capacity) {
 		hashUtil = new HashUtil(capacity);
 	}
 	
 	/**
-	 * ϣ
-	 * @param capacity ϣ
-	 * @param opt ѡmö̴߳ϣ
+	 * 构建哈希表
+	 * @param capacity 哈希表容量
+	 * @param opt 选项，m：用多线程创建哈希表
 	 */
 	public HashIndexTable(int capacity, String opt) {
 		hashUtil = new HashUtil(capacity);
@@ -106,7 +106,7 @@ public class HashIndexTable extends IndexTable {
 	}
 	
 	/**
-	 * ȡϣ
+	 * 取哈希表容量
 	 * @return
 	 */
 	public int getCapacity() {
@@ -114,8 +114,8 @@ public class HashIndexTable extends IndexTable {
 	}
 
 	/**
-	 * ϣ
-	 * @param code Դ
+	 * 创建哈希表
+	 * @param code 源数据
 	 */
 	public void create(Sequence code) {
 		this.code = code;
@@ -146,9 +146,9 @@ public class HashIndexTable extends IndexTable {
 	}
 
 	/**
-	 * ñʽļֵϣ
-	 * @param code Դ
-	 * @param exp ʽ
+	 * 用表达式的计算值当键创建哈希表
+	 * @param code 源数据
+	 * @param exp 表达式
 	 * @param ctx
 	 */
 	public void create(Sequence code, Expression exp, Context ctx) {
@@ -196,7 +196,7 @@ public class HashIndexTable extends IndexTable {
 		}
 	}
 	
-	// ϲϣ
+	// 合并哈希表
 	private static void combineHashGroups(Entry []result, Entry []entries) {
 		int len = result.length;
 		for (int i = 0; i < len; ++i) {
@@ -205,7 +205,7 @@ public class HashIndexTable extends IndexTable {
 			} else if (entries[i] != null) {
 				Entry entry = entries[i];
 				while (true) {
-					// ȽϹϣֵͬԪǷֵҲͬ
+					// 比较哈希值相同的元素是否值也相同
 					for (Entry resultEntry = result[i]; resultEntry != null; resultEntry = resultEntry.next) {
 						if (Variant.isEquals(entry.key, resultEntry.key)) {
 							MessageManager mm = EngineMessage.get();
@@ -226,9 +226,9 @@ public class HashIndexTable extends IndexTable {
 	}
 
 	/**
-	 * еֶָΪϣ
-	 * @param code Դ
-	 * @param field ֶ
+	 * 由排列的指定字段为键创建哈希表
+	 * @param code 源排列
+	 * @param field 字段索引
 	 */
 	public void create(Sequence code, int field) {
 		this.code = code;
@@ -271,8 +271,8 @@ public class HashIndexTable extends IndexTable {
 	}
 
 	/**
-	 * ɼԪأҲؿ
-	 * @param key ֵ
+	 * 由键查找元素，找不到返回空
+	 * @param key 键值
 	 */
 	public Object find(Object key) {
 		int hash = hashUtil.hashCode(key);
@@ -286,8 +286,8 @@ public class HashIndexTable extends IndexTable {
 	}
 
 	/**
-	 * ɼԪأҲؿ
-	 * @param keys Ϊ1ļֵ
+	 * 由键查找元素，找不到返回空
+	 * @param keys 长度为1的键值数组
 	 */
 	public Object find(Object []keys) {
 		int hash = hashUtil.hashCode(keys[0]);
@@ -301,8 +301,8 @@ public class HashIndexTable extends IndexTable {
 	}
 	
 	/**
-	 * ɼԪţҲ0
-	 * @param key ֵ
+	 * 由键查找元素序号，找不到返回0
+	 * @param key 键值
 	 */
 	public int findPos(Object key) {
 		int hash = hashUtil.hashCode(key);
@@ -316,8 +316,8 @@ public class HashIndexTable extends IndexTable {
 	}
 	
 	/**
-	 * ɼԪţҲ0
-	 * @param key ֵ
+	 * 由键查找元素序号，找不到返回0
+	 * @param key 键值
 	 */
 	public int findPos(Object[] keys) {
 		int hash = hashUtil.hashCode(keys[0]);
@@ -331,10 +331,10 @@ public class HashIndexTable extends IndexTable {
 	}
 	
 	/**
-	 * й
-	 * @param exp ˱ʽ
+	 * 由索引进行过滤生成序表并创建新索引
+	 * @param exp 过滤表达式
 	 * @param ctx
-	 * @return Table ļ¼ɵ
+	 * @return Table 满足条件的记录构成的新序表
 	 */
 	public Table select(Expression exp, Context ctx) {
 		Sequence code = this.code;
@@ -32,7 +32,7 @@ public class HttpFile implements IFile {
 	private String requestContentType = null;
 	private HashMap headers;
 	private Map<String,List<String>> responseHeaders;
-	private int timeout = -1;   //ȡʱʱ䣬Ϊλ
+	private int timeout = -1;   //读取超时时间，以秒为单位
 	
 	static {
         HostnameVerifier ignoreHostnameVerifier = new HostnameVerifier() {
@@ -57,9 +57,9 @@ public class HttpFile implements IFile {
 	}
 	
 	/**
-	 * post͵Ĳ
-	 * @param params ʽΪ: key1=value1&key2=value2......
-	 * @param paramsEncoding  ַ,GBKUTF-8
+	 * 设置post方法传送的参数
+	 * @param params 参数，格式为: key1=value1&key2=value2......
+	 * @param paramsEncoding  参数字符集,如GBK，UTF-8
 	 */
 	public void setPostParams( String params, String paramsEncoding ) {
 		if( params != null && params.length() > 0 ) {
@@ -95,7 +95,7 @@ public class HttpFile implements IFile {
 		            TrustManager[] tm = { new MyX509TrustManager() };
 		            SSLContext sslContext = SSLContext.getInstance("SSL", "SunJSSE");
 		            sslContext.init(null, tm, new java.security.SecureRandom());
-		            // SSLContextеõSSLSocketFactorySSLSocketFactory
+		            // 从上述SSLContext对象中得到SSLSocketFactory对象SSLSocketFactory
 		            SSLSocketFactory ssf = sslContext.getSocketFactory();
 		            ((HttpsURLConnection)conn).setSSLSocketFactory(ssf);
 				}
@@ -111,7 +111,7 @@ public class HttpFile implements IFile {
 		            TrustManager[] tm = { new MyX509TrustManager() };
 		            SSLContext sslContext = SSLContext.getInstance("SSL", "SunJSSE");
 		            sslContext.init(null, tm, new java.security.SecureRandom());
-		            // SSLContextеõSSLSocketFactorySSLSocketFactory
+		            // 从上述SSLContext对象中得到SSLSocketFactory对象SSLSocketFactory
 		            SSLSocketFactory ssf = sslContext.getSocketFactory();
 		            ((HttpsURLConnection)conn).setSSLSocketFactory(ssf);
 				}
@@ -150,8 +150,8 @@ public class HttpFile implements IFile {
 	}
 	
 	/**
-	 * urlַ
-	 * @param charset ݵַ, GBKUTF-8
+	 * 获得url的内容字符串
+	 * @param charset 内容的字符集, 如GBK，UTF-8
 	 * @return
 	 */
 	public String getContentString( String charset ) {
@@ -239,20 +239,20 @@ public class HttpFile implements IFile {
 
 	public RandomOutputStream getRandomOutputStream(boolean isAppend) {
 		// TODO Auto-generated method stub
-		throw new RQException( "дhttpļ" );
+		throw new RQException( "不能写http文件" );
 		//return null;
 	}
 	
 	private class MyX509TrustManager implements X509TrustManager {
-	    // ͻ֤
+	    // 检查客户端证书
 	    public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
 	    }
 
-	    // ֤
+	    // 检查服务器端证书
 	    public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
 	    }
 
-	    // εX509֤
+	    // 返回受信任的X509证书数组
 	    public X509Certificate[] getAcceptedIssuers() {
 	        return null;
 	    }
@@ -261,7 +261,7 @@ public class HttpFile implements IFile {
 	public static void main( String[] args ) {
 		try {
 			HttpFile hf = new HttpFile( "http://localhost:7080/raqsoftReport/reportJsp/showReport.jsp?rpx=2.rpx" );
-			//hf.setPostParams( "arg1=й&arg2=а", "UTF-8" );
+			//hf.setPostParams( "arg1=中国&arg2=真行啊！", "UTF-8" );
 			System.out.println( hf.getContentString( "UTF-8" ) );
 		}
 		catch( Throwable t ) {
@@ -3,25 +3,25 @@ package com.scudata.dm;
 import java.io.IOException;
 
 /**
- * 
+ * 按行输入
  */
 public interface ILineInput {
 	/**
-	 * һУ򷵻null
+	 * 返回下一行，如果结束了则返回null
 	 * @return Object[]
 	 * @throws IOException
 	 */
 	Object[] readLine() throws IOException;
 	
 	/**
-	 * һУ򷵻false򷵻true
+	 * 跳过下一行，如果结束了则返回false，否则返回true
 	 * @return boolean
 	 * @throws IOException
 	 */
 	boolean skipLine() throws IOException;
 	
 	/**
-	 * ر
+	 * 关闭输入
 	 * @throws IOException
 	 */
 	void close() throws IOException;
@@ -1,14 +1,14 @@
 package com.scudata.dm;
 
 /**
- * ԴӿڣҪرյԴҪʵִ˽ӿ
- * ԴcloseͷԴ
+ * 资源接口，对于需要关闭的资源需要实现此接口
+ * 资源管理器最后会调用close方法以释放资源
  * @author WangXiaoJun
  *
  */
 public interface IResource {
 	/**
-	 * ʹýرԴ
+	 * 使用结束，关闭资源
 	 */
 	void close();
 }
\ No newline at end of file
@@ -3,14 +3,14 @@ package com.scudata.dm;
 import java.util.LinkedList;
 
 /**
- * ڶ԰й
+ * 用于对按块读入的输入流做串行管理
  * @author WangXiaoJun
  *
  */
 public final class InputStreamManager extends Thread {
 	private static InputStreamManager manager;
 	
-	// ڵȴȡݵ
+	// 在等待读取数据的输入流
 	private LinkedList <BlockInputStream>bisList = new LinkedList<BlockInputStream>();
 
 	private InputStreamManager(ThreadGroup group) {
@@ -18,7 +18,7 @@ public final class InputStreamManager extends Thread {
 	}
 
 	/**
-	 * ȡ
+	 * 取输入流管理对象
 	 * @return InputStreamManager
 	 */
 	public synchronized static InputStreamManager getInstance() {
@@ -42,7 +42,7 @@ public final class InputStreamManager extends Thread {
 	}
 
 	/**
-	 * жȡһ
+	 * 把输入流加入队列中读取一块数据
 	 * @param is
 	 */
 	public void read(BlockInputStream is) {
@@ -53,21 +53,21 @@ public final class InputStreamManager extends Thread {
 	}
 
 	/**
-	 * ݺ
+	 * 读数据函数
 	 */
 	public void run() {
 		while (true) {
 			synchronized(bisList) {
 				if (bisList.size() == 0) {
 					try {
-						// ȴread
+						// 等待输入流调用read
 						bisList.wait();
 					} catch (InterruptedException e) {
 					}
 				}
 			}
 
-			// ѭУֱеȡ
+			// 循环输入流队列，直到所有的输入流都读取完数据
 			while (true) {
 				BlockInputStream bis;
 				synchronized(bisList) {
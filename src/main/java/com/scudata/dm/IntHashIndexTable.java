@@ -0,0 +1,333 @@
+package com.scudata.dm;
+
+import com.scudata.array.BoolArray;
+import com.scudata.array.IArray;
+import com.scudata.array.IntArray;
+import com.scudata.array.LongArray;
+import com.scudata.common.MessageManager;
+import com.scudata.common.RQException;
+import com.scudata.expression.Expression;
+import com.scudata.resources.EngineMessage;
+import com.scudata.util.Variant;
+
+/**
+ * 键为整数的单字段索引，键值都是整数或长整数并且没有空值时使用
+ * 键的范围不大时用键值直接寻址，否则用开放地址哈希表，比较时不需要装箱
+ * 按数组查找时一次查找整批键值，用于switch、join等按外键找维表记录
+ * @author RunQian
+ *
+ */
+public class IntHashIndexTable extends IndexTable {
+	private static final int MAX_DENSE_TIMES = 4; // 键的范围不超过记录数的这个倍数时直接寻址
+	private static final long MIX = 0x9E3779B97F4A7C15L; // 计算哈希值用的乘数
+	private static final double MAX_EXACT_DOUBLE = 9007199254740992.0; // 能精确表示整数的最大浮点数
+
+	private Sequence code; // 源表，索引存放的是元素的位置
+	private IArray keys; // 源表的键值
+
+	private long minKey; // 直接寻址时的最小键值
+	private int []densePos; // 直接寻址时键值减最小键值对应的位置，0表示没有
+
+	private long []hashKeys; // 开放地址哈希表的键值
+	private int []hashPos; // 开放地址哈希表的位置，0表示空
+	private int shift; // 计算哈希值时右移的位数
+	private int mask; // 哈希表容量减1
+
+	private IntHashIndexTable(Sequence code, IArray keys) {
+		this.code = code;
+		this.keys = keys;
+	}
+
+	/**
+	 * 用指定字段创建索引，字段值不都是非空整数时返回空
+	 * @param code 源表
+	 * @param field 键字段序号
+	 * @return IntHashIndexTable
+	 */
+	public static IntHashIndexTable create(Sequence code, int field) {
+		if (code.length() == 0) {
+			return null;
+		}
+
+		IArray keys = code.getFieldValueArray(field);
+		return create(code, keys);
+	}
+
+	/**
+	 * 用键值数组创建索引，键值不都是非空整数时返回空
+	 * @param code 源表
+	 * @param keys 键值，与源表的成员一一对应
+	 * @return IntHashIndexTable
+	 */
+	public static IntHashIndexTable create(Sequence code, IArray keys) {
+		if (!(keys instanceof IntArray || keys instanceof LongArray)) {
+			keys = toLongArray(keys);
+			if (keys == null) {
+				return null;
+			}
+		}
+
+		int len = keys.size();
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		for (int i = 1; i <= len; ++i) {
+			if (keys.isNull(i)) {
+				return null;
+			}
+
+			long key = keys.getLong(i);
+			if (key < min) {
+				min = key;
+			}
+
+			if (key > max) {
+				max = key;
+			}
+		}
+
+		IntHashIndexTable indexTable = new IntHashIndexTable(code, keys);
+		long range = max - min + 1;
+		if (range > 0 && range <= (long)len * MAX_DENSE_TIMES && range <= Integer.MAX_VALUE - 8) {
+			indexTable.createDense(min, (int)range);
+		} else {
+			indexTable.createHash();
+		}
+
+		return indexTable;
+	}
+
+	// 普通记录取出的字段值是对象数组，成员都是整数或长整数时转成长整数数组
+	private static LongArray toLongArray(IArray keys) {
+		int len = keys.size();
+		long []datas = new long[len + 1];
+		for (int i = 1; i <= len; ++i) {
+			Object key = keys.get(i);
+			if (key instanceof Integer || key instanceof Long) {
+				datas[i] = ((Number)key).longValue();
+			} else {
+				return null;
+			}
+		}
+
+		return new LongArray(datas, null, len);
+	}
+
+	private void createDense(long min, int range) {
+		IArray keys = this.keys;
+		int []densePos = new int[range];
+		for (int i = 1, len = keys.size(); i <= len; ++i) {
+			int index = (int)(keys.getLong(i) - min);
+			if (densePos[index] != 0) {
+				throwDupKey(keys.get(i));
+			}
+
+			densePos[index] = i;
+		}
+
+		this.minKey = min;
+		this.densePos = densePos;
+	}
+
+	private void createHash() {
+		IArray keys = this.keys;
+		int len = keys.size();
+		int bits = 1;
+		while ((1 << bits) < len * 2) {
+			bits++;
+		}
+
+		int capacity = 1 << bits;
+		long []hashKeys = new long[capacity];
+		int []hashPos = new int[capacity];
+		int shift = 64 - bits;
+		int mask = capacity - 1;
+
+		for (int i = 1; i <= len; ++i) {
+			long key = keys.getLong(i);
+			int h = (int)((key * MIX) >>> shift);
+			while (hashPos[h] != 0) {
+				if (hashKeys[h] == key) {
+					throwDupKey(keys.get(i));
+				}
+
+				h = (h + 1) & mask;
+			}
+
+			hashKeys[h] = key;
+			hashPos[h] = i;
+		}
+
+		this.hashKeys = hashKeys;
+		this.hashPos = hashPos;
+		this.shift = shift;
+		this.mask = mask;
+	}
+
+	private static void throwDupKey(Object key) {
+		MessageManager mm = EngineMessage.get();
+		throw new RQException(Variant.toString(key) + mm.getMessage("engine.dupKeys"));
+	}
+
+	// 查找整数键的位置，找不到返回0
+	private int findPos(long key) {
+		if (densePos != null) {
+			long index = key - minKey;
+			if (index >= 0 && index < densePos.length) {
+				return densePos[(int)index];
+			} else {
+				return 0;
+			}
+		}
+
+		long []hashKeys = this.hashKeys;
+		int []hashPos = this.hashPos;
+		int h = (int)((key * MIX) >>> shift);
+		while (hashPos[h] != 0) {
+			if (hashKeys[h] == key) {
+				return hashPos[h];
+			}
+
+			h = (h + 1) & mask;
+		}
+
+		return 0;
+	}
+
+	public int findPos(Object key) {
+		if (key instanceof Integer || key instanceof Long || key instanceof Short || key instanceof Byte) {
+			return findPos(((Number)key).longValue());
+		} else if (key instanceof Number) {
+			// 其它数值类型的值等于整数时也能找到，与按值比较的哈希索引一致
+			double d = ((Number)key).doubleValue();
+			long n = (long)d;
+			if (n == d && Math.abs(d) < MAX_EXACT_DOUBLE) {
+				return findPos(n);
+			} else {
+				return 0;
+			}
+		} else if (key instanceof Sequence && ((Sequence)key).length() == 1) {
+			return findPos(((Sequence)key).getMem(1));
+		} else {
+			return 0;
+		}
+	}
+
+	public int findPos(Object []keys) {
+		if (keys.length == 1) {
+			return findPos(keys[0]);
+		} else {
+			return 0;
+		}
+	}
+
+	public Object find(Object key) {
+		int pos = findPos(key);
+		return pos > 0 ? code.getMem(pos) : null;
+	}
+
+	public Object find(Object []keys) {
+		int pos = findPos(keys);
+		return pos > 0 ? code.getMem(pos) : null;
+	}
+
+	public int[] findAllPos(IArray key) {
+		return findAllPos(key, null);
+	}
+
+	public int[] findAllPos(IArray key, BoolArray signArray) {
+		int len = key.size();
+		int []pos = new int[len + 1];
+
+		if (key instanceof IntArray || key instanceof LongArray) {
+			if (densePos != null) {
+				int []densePos = this.densePos;
+				long minKey = this.minKey;
+				int range = densePos.length;
+				for (int i = 1; i <= len; ++i) {
+					if ((signArray == null || signArray.isTrue(i)) && !key.isNull(i)) {
+						long index = key.getLong(i) - minKey;
+						if (index >= 0 && index < range) {
+							pos[i] = densePos[(int)index];
+						}
+					}
+				}
+			} else {
+				for (int i = 1; i <= len; ++i) {
+					if ((signArray == null || signArray.isTrue(i)) && !key.isNull(i)) {
+						pos[i] = findPos(key.getLong(i));
+					}
+				}
+			}
+		} else {
+			for (int i = 1; i <= len; ++i) {
+				if (signArray == null || signArray.isTrue(i)) {
+					pos[i] = findPos(key.get(i));
+				}
+			}
+		}
+
+		return pos;
+	}
+
+	public int[] findAllPos(IArray []keys) {
+		return findAllPos(keys[0], null);
+	}
+
+	public int[] findAllPos(IArray []keys, BoolArray signArray) {
+		return findAllPos(keys[0], signArray);
+	}
+
+	/**
+	 * 按位置数组取源表的成员，位置为0的取空
+	 * @param pos findAllPos返回的位置数组
+	 * @return 成员数组，从1开始计数
+	 */
+	public Object[] getMems(int []pos) {
+		IArray mems = code.getMems();
+		int len = pos.length - 1;
+		Object []result = new Object[len + 1];
+		for (int i = 1; i <= len; ++i) {
+			if (pos[i] > 0) {
+				result[i] = mems.get(pos[i]);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * 过滤源表，结果带有同样类型的索引
+	 * @param exp 过滤条件
+	 * @param ctx 计算上下文
+	 * @return Table
+	 */
+	public Table select(Expression exp, Context ctx) {
+		Sequence code = this.code;
+		ComputeStack stack = ctx.getComputeStack();
+		stack.push(new Current(code));
+		BoolArray signArray;
+
+		try {
+			signArray = exp.calculateAll(ctx).isTrue();
+		} finally {
+			stack.pop();
+		}
+
+		IArray mems = code.getMems();
+		int len = mems.size();
+		Table result = new Table(code.dataStruct(), len);
+		IArray resultMems = result.getMems();
+		for (int i = 1; i <= len; ++i) {
+			if (signArray.isTrue(i)) {
+				resultMems.add(mems.get(i));
+			}
+		}
+
+		result.trimToSize();
+		if (result.length() > 0) {
+			result.setIndexTable(create(result, keys.select(signArray)));
+		}
+
+		return result;
+	}
+}
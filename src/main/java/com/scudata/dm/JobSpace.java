@@ -7,14 +7,14 @@ import com.scudata.expression.Expression;
 import com.scudata.parallel.UnitClient;
 
 /**
- * ռ
+ * 任务空间
  * @author RunQian
  *
  */
 public class JobSpace {
 	private String id;
-	private ParamList paramList = new ParamList(); // ȫ̱
-	private long lastAccess = System.currentTimeMillis(); // ʱ
+	private ParamList paramList = new ParamList(); // 存放全程变量
+	private long lastAccess = System.currentTimeMillis(); // 最后访问时间
 	private File appHome = null;
 
 	private ArrayList<UnitClient> unitClients = new ArrayList<UnitClient>();
@@ -68,7 +68,7 @@ public class JobSpace {
 	}
 
 	/**
-	 * ȡб
+	 * 取所有变量
 	 * 
 	 * @return Param[]
 	 */
@@ -87,9 +87,9 @@ public class JobSpace {
 	}
 
 	/**
-	 * ȡ
+	 * 按名称取变量
 	 * 
-	 * @param name 
+	 * @param name 变量名
 	 * @return DataStruct
 	 */
 	public Param getParam(String name) {
@@ -100,9 +100,9 @@ public class JobSpace {
 	}
 
 	/**
-	 * ӱ
+	 * 添加变量
 	 * 
-	 * @param param 
+	 * @param param 变量
 	 */
 	public void addParam(Param param) {
 		synchronized (paramList) {
@@ -112,7 +112,7 @@ public class JobSpace {
 	}
 
 	/**
-	 * ɾ
+	 * 按名称删除变量
 	 * 
 	 * @param name String
 	 * @return Param
@@ -125,7 +125,7 @@ public class JobSpace {
 	}
 
 	/**
-	 * ɾб
+	 * 删除所有变量
 	 */
 	public void clearParam() {
 		synchronized (paramList) {
@@ -135,10 +135,10 @@ public class JobSpace {
 	}
 
 	/**
-	 * ñֵһ
+	 * 设置变量的值，如果变量不存在则产生一个
 	 * 
-	 * @param name String 
-	 * @param value Object ֵ
+	 * @param name String 变量名
+	 * @param value Object 变量值
 	 */
 	public void setParamValue(String name, Object value) {
 		synchronized (paramList) {
@@ -153,7 +153,7 @@ public class JobSpace {
 		}
 	}
 	
-	// סټxΪ֧ͬenv(v,v+n)
+	// 先锁住变量再计算x，为了支持同步做env(v,v+n)
 	public Object setParamValue(String name, Expression x, Context ctx) {
 		Param p;
 		synchronized (paramList) {
@@ -173,7 +173,7 @@ public class JobSpace {
 	}
 
 	/**
-	 * ʱ
+	 * 返回最后访问时间
 	 * 
 	 * @return long
 	 */
@@ -181,7 +181,7 @@ public class JobSpace {
 		return lastAccess;
 	}
 
-	public void addHosts(String host, int port) { // callxָhost󣬽hosthosts·ʱ
+	public void addHosts(String host, int port) { // callx分配任务到指定host后，将host增加hosts，并更新访问时间
 		UnitClient uc = new UnitClient(host, port);
 		synchronized (unitClients) {
 			if (!unitClients.contains(uc)) {
@@ -199,8 +199,8 @@ public class JobSpace {
 	}
 	
 	private void close(boolean paramCleared){
-		//callx(h)Ҫhspaceڴ˴ֻ֪ͨرտռ
-		//̵ֻ÷ֽ̲Ŀռ䲻طֻUnitsϢڹرտռʱHostManagerҳԼunitsٹر		
+		//主程序如果调用了callx(h)，需要将分配过的h记在space，用于此处通知分机关闭空间
+		//分机主进程调用分进程产生的空间不记载分机Units信息，由主进程在关闭空间时，从HostManager找出自己的units再关闭		
 		for (int i = 0; i < unitClients.size(); i++) {
 			UnitClient uc = unitClients.get(i);
 			uc.closeSpace(id);
@@ -212,7 +212,7 @@ public class JobSpace {
 	}
 
 	public boolean checkTimeOut(int timeOut) {
-		// 룬timeOutλΪ
+		// 换算成秒，timeOut单位为秒
 		long unvisit = (System.currentTimeMillis() - lastAccess) / 1000;
 		if (unvisit > timeOut) {
 			// destroy();
@@ -222,22 +222,22 @@ public class JobSpace {
 	}
 
 	/**
-	 * ȡԴ
+	 * 取资源管理器
 	 * @return
 	 */
 	public ResourceManager getResourceManager() {
 		return rm;
 	}
 	
-	/** ӦĿ¼ */
+	/** 设应用主目录 */
 	public void setAppHome(File f){
 		this.appHome = f;
 	}
-	/** ȡӦĿ¼ */
+	/** 取应用主目录 */
 	public File getAppHome() {
 		return this.appHome;
 	}
-	/** ȡӦóĿ¼ */
+	/** 取应用程序目录 */
 	public File getAppProgPath() {
 		return new File(this.appHome, "prog");
 	}
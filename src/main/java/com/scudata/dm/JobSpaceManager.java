@@ -4,8 +4,8 @@ import java.util.*;
 
 import com.scudata.common.RQException;
 
-//ռ
-//ݲʱԶ
+//空间管理器
+//暂不做超时自动监测
 public class JobSpaceManager {
 	private static ArrayList<JobSpace> spaces = new ArrayList<JobSpace>();
 
@@ -18,11 +18,11 @@ public class JobSpaceManager {
 		JobSpace js;
 		for (int i = spaces.size()-1; i >=0; i--) {
 			js = spaces.get(i);
-//			if( js==null ){//|| js.getID()==null){//ԭϲӦójsΪnullĶ󣬵Ŀǰԭnull쳣
+//			if( js==null ){//|| js.getID()==null){//原则上不应该出现js为null的对象，但目前不明原因有null异常
 //				spaces.remove(i);
 //				continue;
 //			}
-//			ڲֵܳȺԣӰܣʱԸԭ2015.6.24
+//			对于不可能出现的情况，先忽略，以免影响性能，真的碰到这个问题时，再认真调试搞出原因；2015.6.24
 			if (js.getID().equals(spaceId))
 				return js;
 		}
@@ -69,7 +69,7 @@ public class JobSpaceManager {
 	 * checkTimeOut
 	 */
 	public synchronized static void checkTimeOut(int timeOut) {
-		// 룬timeOutλΪ
+		// 换算成秒，timeOut单位为秒
 		for (int i = spaces.size() - 1; i >= 0; i--) {
 			JobSpace js = spaces.get(i);
 			if (js.checkTimeOut(timeOut)) {
@@ -1,28 +1,28 @@
 package com.scudata.dm;
 
 /**
- * Ŀõͱʶ
+ * 定义了项目用到的运算符和标识符
  * @author WangXiaoJun
  *
  */
 public final class KeyWord {
-	public static final String SUBCODEBLOCK = "??"; // ԵǰΪĴ
-	public static final String ARGPREFIX = "?"; // ǰ׺evalıʽ?1?2ʽò
-	public static final char OPTION = '@'; // ѡָ
+	public static final String SUBCODEBLOCK = "??"; // 计算以当前格为主格的代码块
+	public static final String ARGPREFIX = "?"; // 参数前缀，eval函数的表达式可以用?1、?2这种形式引用参数
+	public static final char OPTION = '@'; // 函数选项分隔符
 
-	public static final String CURRENTELEMENT = "~"; // еǰԪرʶ
-	public static final String CURRENTSEQ = "#"; // еĵǰѭ
-	public static final String ITERATEPARAM = "~~"; // iterateõֵ
-	public static final String FIELDIDPREFIX = "#"; // ֶ#1, #2...
-	public static final String CURRENTCELL = "@"; // ǰ
+	public static final String CURRENTELEMENT = "~"; // 序列当前元素标识符
+	public static final String CURRENTSEQ = "#"; // 序列的当前循环序号
+	public static final String ITERATEPARAM = "~~"; // 迭代参数，用于iterate函数中引用迭代值
+	public static final String FIELDIDPREFIX = "#"; // 用序号引用字段#1, #2...
+	public static final String CURRENTCELL = "@"; // 当前格
 
-	public static final char CELLPREFIX = '#'; // #A1 #C Ԫǰ׺
-	public static final String CONSTSTRINGPREFIX = "'"; // ַǰ׺
+	public static final char CELLPREFIX = '#'; // #A1 #C 单元格前缀
+	public static final String CONSTSTRINGPREFIX = "'"; // 常量字符串前缀
 
 	/**
-	 * жַָǷǿհ׻ȷ
-	 * @param c ַ
-	 * @return trueǣfalse
+	 * 判断指定字符是否是空白或者运算符等符号
+	 * @param c 字符
+	 * @return true：是，false：不是
 	 */
 	public static boolean isSymbol(char c) {
 		return (Character.isWhitespace(c) ||
@@ -34,54 +34,54 @@ public final class KeyWord {
 	}
 
 	/**
-	 * жϱʶǷӴʶ
-	 * @param id ʶ
-	 * @return trueǣfalse
+	 * 判断标识符是否是子代码块标识符
+	 * @param id 标识符
+	 * @return true：是，false：不是
 	 */
 	public static boolean isSubCodeBlock(String id) {
 		return SUBCODEBLOCK.equals(id);
 	}
 	
 	/**
-	 * жϱʶǷеĵǰԪ
-	 * @param id ʶ
-	 * @return trueǣfalse
+	 * 判断标识符是否是序列的当前元素
+	 * @param id 标识
+	 * @return true：是，false：不是
 	 */
 	public static boolean isCurrentElement(String id) {
 		return CURRENTELEMENT.equals(id);
 	}
 	
 	/**
-	 * жϱʶǷеĵǰѭ
-	 * @param id ʶ
-	 * @return trueǣfalse
+	 * 判断标识符是否是序列的当前循环序号
+	 * @param id 标识
+	 * @return true：是，false：不是
 	 */
 	public static boolean isCurrentSeq(String id) {
 		return CURRENTSEQ.equals(id);
 	}
 	
 	/**
-	 * жϱʶǷеĵǰѭ
-	 * @param id ʶ
-	 * @return trueǣfalse
+	 * 判断标识符是否是序列的当前循环序号
+	 * @param id 标识
+	 * @return true：是，false：不是
 	 */
 	public static boolean isCurrentCell(String id) {
 		return CURRENTCELL.equals(id);
 	}
 	
 	/**
-	 * жϱʶǷǵ
-	 * @param id ʶ
-	 * @return trueǣfalse
+	 * 判断标识符是否是迭代变量
+	 * @param id 标识
+	 * @return true：是，false：不是
 	 */
 	public static boolean isIterateParam(String id) {
 		return ITERATEPARAM.equals(id);
 	}
 
 	/**
-	 * жϱʶǷֶεŷ
-	 * @param id ʶ
-	 * @return trueǣfalse
+	 * 判断标识符是否是字段的序号法引用
+	 * @param id 标识
+	 * @return true：是，false：不是
 	 */
 	public static boolean isFieldId(String id) {
 		if (id == null || id.length() < 2 || !id.startsWith(FIELDIDPREFIX)) {
@@ -99,18 +99,18 @@ public final class KeyWord {
 	}
 	
 	/**
-	 * ȡֶεţid#1ַ
-	 * @param id ֶε#nʾĴ
-	 * @return ֶ
+	 * 取字段的序号，id是形如#1这样的字符串
+	 * @param id 字段的#n表示的串
+	 * @return 字段序号
 	 */
 	public static int getFiledId(String id) {
 		return Integer.parseInt(id.substring(FIELDIDPREFIX.length()));
 	}
 
 	/**
-	 * жϱʶǷǲ?ãҲ?1?2ָõڼ
-	 * @param id ʶ
-	 * @return trueǣfalse
+	 * 判断标识符是否是参数，参数可以用?引用，也可以用?1、?2这种指定引用第几个参数
+	 * @param id 标识符
+	 * @return true：是，false：不是
 	 */
 	public static boolean isArg(String id) {
 		if (id == null || !id.startsWith(ARGPREFIX)) {
@@ -128,10 +128,10 @@ public final class KeyWord {
 	}
 	
 	/**
-	 * ɨʶؽλ
-	 * @param expStr ʽַ
-	 * @param start ʼɨλã
-	 * @return int ʶĽλã
+	 * 扫描标识符，返回结束位置
+	 * @param expStr 表达式字符串
+	 * @param start 起始扫描位置（包含）
+	 * @return int 标识符的结束位置（不包含）
 	 */
 	public static int scanId(String expStr, int start) {
 		int len = expStr.length();
@@ -145,9 +145,9 @@ public final class KeyWord {
 	}
 
 	/**
-	 * ַеĺѡֲԴŲѡĴѡΪֵ
-	 * @param strs ַ
-	 * @return ѡ
+	 * 把字符串中的函数选项分拆出来，源数组存放拆除选项后的串，选项做为返回值返回
+	 * @param strs 字符串数组
+	 * @return 选项数组
 	 */
 	public static String[] parseStringOptions(String []strs) {
 		int size = strs.length;
@@ -6,27 +6,27 @@ import java.io.OutputStream;
 import com.scudata.util.Variant;
 
 /**
- * ڵеıļ
+ * 用于导出排列到文本文件
  * @author WangXiaoJun
  *
  */
 public class LineExporter implements ILineOutput {
-	private OutputStream os; // 
-	private final String charset; // ַ
-	private final byte []colSeparator; // зָ
-	private final byte []lineSeparator; // зָ
-	private boolean isAppend; // Ƿ׷д
+	private OutputStream os; // 输出流
+	private final String charset; // 字符集
+	private final byte []colSeparator; // 列分隔符
+	private final byte []lineSeparator; // 行分隔符
+	private boolean isAppend; // 是否追加写
 	
 	private char escapeChar = '\\';
-	private boolean isQuote = false; // ַǷ
+	private boolean isQuote = false; // 字符串是否加引号
 
 	/**
-	 * 찴
-	 * @param os 
-	 * @param charset ַ
-	 * @param colSeparator зָ
-	 * @param lineSeparator зָ
-	 * @param isAppend Ƿ׷д
+	 * 构造按行输出对象
+	 * @param os 输出流
+	 * @param charset 字符集
+	 * @param colSeparator 列分隔符
+	 * @param lineSeparator 行分隔符
+	 * @param isAppend 是否追加写
 	 */
 	public LineExporter(OutputStream os, String charset, byte []colSeparator, byte []lineSeparator, boolean isAppend) {
 		this.os = os;
@@ -37,7 +37,7 @@ public class LineExporter implements ILineOutput {
 	}
 	
 	/**
-	 * ַǷ
+	 * 设置字符串是否加引号
 	 * @param b
 	 */
 	public void setQuote(boolean b) {
@@ -45,15 +45,15 @@ public class LineExporter implements ILineOutput {
 	}
 	
 	/**
-	 * ת
-	 * @param c ת
+	 * 设置转义符
+	 * @param c 转义符
 	 */
 	public void setEscapeChar(char c) {
 		escapeChar = c;
 	}
 	
 	/**
-	 * ȡת
+	 * 取转义符
 	 * @return char
 	 */
 	public char getEscapeChar() {
@@ -61,7 +61,7 @@ public class LineExporter implements ILineOutput {
 	}
 
 	/**
-	 * ر
+	 * 关闭输出
 	 * @throws IOException
 	 */
 	public void close() throws IOException {
@@ -69,8 +69,8 @@ public class LineExporter implements ILineOutput {
 	}
 
 	/**
-	 * дһ
-	 * @param items ֵɵ
+	 * 写出一行数据
+	 * @param items 列值组成的数组
 	 * @throws IOException
 	 */
 	public void writeLine(Object []items) throws IOException {
@@ -7,6 +7,13 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Date;
 
+import com.scudata.array.DateArray;
+import com.scudata.array.DoubleArray;
+import com.scudata.array.IArray;
+import com.scudata.array.IntArray;
+import com.scudata.array.LongArray;
+import com.scudata.array.ObjectArray;
+import com.scudata.array.StringArray;
 import com.scudata.common.DateFormatFactory;
 import com.scudata.common.DateFormatX;
 import com.scudata.common.Escape;
@@ -18,60 +25,61 @@ import com.scudata.util.FloatingDecimal;
 import com.scudata.util.Variant;
 
 /**
- * ڰıļ
+ * 用于把文本文件读成序表
  * @author RunQian
  *
  */
 public final class LineImporter implements ILineInput {
-	private static final int BOM_SIZE = 4; // BOMͷĴС
+	private static final int BOM_SIZE = 4; // BOM头最大的大小
 	
-	private static final int PARSEMODE_DEFAULT = 0; // нתתָת
-	private static final int PARSEMODE_DELETE = 1; // нתתָɾ
-	private static final int PARSEMODE_EXCEPTION = 2; // нתתָ쳣
-	private static final int PARSEMODE_MULTI_STRING = 3; // ͽضֶַ
-	private static final int PARSEMODE_SINGLE_STRING = 4; // в֣ÿзسַ
+	private static final int PARSEMODE_DEFAULT = 0; // 对列进行类型转换，如果转不到指定的类型则尝试转成其它类型
+	private static final int PARSEMODE_DELETE = 1; // 对列进行类型转换，如果转不到指定的类型则删除行
+	private static final int PARSEMODE_EXCEPTION = 2; // 对列进行类型转换，如果转不到指定的类型则抛异常
+	private static final int PARSEMODE_MULTI_STRING = 3; // 不做类型解析，返回多字段字符串
+	private static final int PARSEMODE_SINGLE_STRING = 4; // 不做列拆分，每行返回成字符串
 	
 	private static final byte CR = (byte)'\r';
 	private static final byte LF = (byte)'\n';
-	private static final byte CONTINUECHAR = '\\'; // з
+	private static final byte CONTINUECHAR = '\\'; // 续行符
 	
-	private InputStream is; // 
-	private byte[] buffer; // ÿζֽڻ
-	private int index; // һbufferе
-	private int count; // bufferʵֽĿ
-	private long position; // еλ
-	private boolean isEof = false; // ǷѾļ
-
-	private String charset; // ַ
-	private byte colSeparator; // м
-	private byte []colSeparators; // ַмΪcolSeparator
+	private InputStream is; // 输入流
+	private byte[] buffer; // 每次读入的字节缓存
+	private int index; // 下一行在buffer中的索引
+	private int count; // 读入buffer的实际字节数目
+	private long position; // 读入光标在流中的位置
+	private boolean isEof = false; // 是否已经文件结束
+
+	private String charset; // 字符集
+	private byte colSeparator; // 列间隔
+	private byte []colSeparators; // 多字符列间隔，如果不为空则忽略colSeparator
 	
-	private byte []colTypes; // 
-	private DateFormatX []fmts; // ʱĸʽ
-	private int []serialByteLens; // źֶεĳ
-	private int []selIndex; // ǷѡС0ѡ
-
-	private int parseMode = PARSEMODE_DEFAULT; // ֵģʽ
-	private char escapeChar = '\\'; // ת@oѡʱʹexcel׼תΪ"βʱڵĻз
-	private boolean isQuote = false; // ţ⣬ת
-	private boolean isSingleQuote = false; // ˵ţ⣬ת
-	private boolean doQuoteMatch; // Ƿƥ
-	private boolean doSingleQuoteMatch; // Ƿƥ
-	private boolean doBracketsMatch; // Ƿƥ䣨Բššţ
-	private boolean isTrim = true; // ǷȡߵĿհ
-	private boolean isContinueLine = false; // Ƿ
-	private boolean checkColCount = false; // ɾѡԵһΪ׼
-	private boolean checkValueType = false; // ͺ͸ʽǷƥ
+	private byte []colTypes; // 列类型
+	private DateFormatX []fmts; // 日期时间的格式
+	private int []serialByteLens; // 排号字段的长度
+	private int []selIndex; // 列是否选出，小于0不选出
+
+	private int parseMode = PARSEMODE_DEFAULT; // 解析值的模式
+	private char escapeChar = '\\'; // 转义符，@o选项时使用excel标准，转义符为"，并且找行尾时忽略引号内的换行符
+	private boolean isQuote = false; // 剥离数据项两端引号，包括标题，处理转义
+	private boolean isSingleQuote = false; // 剥离数据项两端单引号，包括标题，处理转义
+	private boolean doQuoteMatch; // 是否做引号匹配
+	private boolean doSingleQuoteMatch; // 是否做单引号匹配
+	private boolean doBracketsMatch; // 是否做括号匹配（包括圆括号、中括号、花括号）
+	private boolean isTrim = true; // 是否取出两边的空白
+	private boolean isContinueLine = false; // 是否有续行
+	private boolean checkColCount = false; // 用于列数超过的行删除选项，以第一行为准
+	private boolean checkValueType = false; // 数据类型和格式是否匹配
+	private long parsedLong; // 按列读入时解析出的整数
 	
 	/**
-	 * ڱʾÿݶӦֽ
+	 * 用于表示每行数据对应的字节数组
 	 * @author RunQian
 	 *
 	 */
 	private class LineBytes {
-		private byte[] buffer; // 
-		private int i; // пʼλã
-		private int count; // ֽ
+		private byte[] buffer; // 缓冲区
+		private int i; // 行开始位置，包含
+		private int count; // 行字节数
 		
 		public LineBytes(byte[] buffer, int i, int count) {
 			this.buffer = buffer;
@@ -81,47 +89,47 @@ public final class LineImporter implements ILineInput {
 	}
 	
 	/**
-	 * ıļݶ
-	 * @param is 
-	 * @param charset ַ
-	 * @param colSeparator зָ
-	 * @param opt ѡ
-	 * 		@s	ֶΣɵֶδɵԲ
-	 * 		@q	ţ⣬ת壻мŲ
-	 * 		@a	ѵҲΪŴȱʡ
-	 * 		@o	ʹExcel׼ת壬˫űʾһţַת
-	 * 		@p	ʱźƥ䣬ڷָ㣬תҲ
-	 * 		@f	κν÷ָɴ
-	 * 		@l	Уβתַ\
-	 * 		@k	˵Ŀհ׷ȱʡԶtrim
-	 * 		@e	Fiڴвʱnullȱʡ
-	 * 		@d	ݲƥͺ͸ʽʱɾУƥƥ
-	 * 		@n	ƥ󣬺Դ
-	 * 		@v	@d@nʱʱ׳Υжϳе
+	 * 构建把文本文件读成行列数据对象
+	 * @param is 输入流
+	 * @param charset 字符集
+	 * @param colSeparator 列分隔符
+	 * @param opt 选项
+	 * 		@s	不拆分字段，读成单字段串构成的序表，忽略参数
+	 * 		@q	剥离数据项两端引号，包括标题，处理转义；中间的引号不管
+	 * 		@a	把单引号也作为引号处理，缺省不处理
+	 * 		@o	使用Excel标准转义，串中双个引号表示一个引号，其它字符不转义
+	 * 		@p	解析时处理括号和引号匹配，括号内分隔符不算，引号外转义也处理
+	 * 		@f	不做任何解析，简单用分隔符拆成串
+	 * 		@l	允许续行（行尾是转义字符\）
+	 * 		@k	保留数据项两端的空白符，缺省将自动做trim
+	 * 		@e	Fi在串中不存在时将生成null，缺省将报错
+	 * 		@d	行内有数据不匹配类型和格式时删除该行，包括引号匹配和括号匹配
+	 * 		@n	列数不匹配算作错误，忽略此行
+	 * 		@v	@d@n时出错时抛出违例，中断程序，输出出错行的内容
 	 */
 	public LineImporter(InputStream is, String charset, byte[] colSeparator, String opt) {
 		this(is, charset, colSeparator, opt, Env.FILE_BUFSIZE);
 	}
 
 	/**
-	 * ıļݶ
-	 * @param is 
-	 * @param charset ַ
-	 * @param colSeparator зָ
-	 * @param opt ѡ
-	 * 		@s	ֶΣɵֶδɵԲ
-	 * 		@q	ţ⣬ת壻мŲ
-	 * 		@a	ѵҲΪŴȱʡ
-	 * 		@o	ʹExcel׼ת壬˫űʾһţַת
-	 * 		@p	ʱźƥ䣬ڷָ㣬תҲ
-	 * 		@f	κν÷ָɴ
-	 * 		@l	Уβתַ\
-	 * 		@k	˵Ŀհ׷ȱʡԶtrim
-	 * 		@e	Fiڴвʱnullȱʡ
-	 * 		@d	ݲƥͺ͸ʽʱɾУƥƥ
-	 * 		@n	ƥ󣬺Դ
-	 * 		@v	@d@nʱʱ׳Υжϳе
-	 * @param bufSize С
+	 * 构建把文本文件读成行列数据对象
+	 * @param is 输入流
+	 * @param charset 字符集
+	 * @param colSeparator 列分隔符
+	 * @param opt 选项
+	 * 		@s	不拆分字段，读成单字段串构成的序表，忽略参数
+	 * 		@q	剥离数据项两端引号，包括标题，处理转义；中间的引号不管
+	 * 		@a	把单引号也作为引号处理，缺省不处理
+	 * 		@o	使用Excel标准转义，串中双个引号表示一个引号，其它字符不转义
+	 * 		@p	解析时处理括号和引号匹配，括号内分隔符不算，引号外转义也处理
+	 * 		@f	不做任何解析，简单用分隔符拆成串
+	 * 		@l	允许续行（行尾是转义字符\）
+	 * 		@k	保留数据项两端的空白符，缺省将自动做trim
+	 * 		@e	Fi在串中不存在时将生成null，缺省将报错
+	 * 		@d	行内有数据不匹配类型和格式时删除该行，包括引号匹配和括号匹配
+	 * 		@n	列数不匹配算作错误，忽略此行
+	 * 		@v	@d@n时出错时抛出违例，中断程序，输出出错行的内容
+	 * @param bufSize 读缓冲区大小
 	 */
 	public LineImporter(InputStream is, String charset, byte[] colSeparator, String opt, int bufSize) {
 		if (colSeparator.length == 1) {
@@ -136,10 +144,10 @@ public final class LineImporter implements ILineInput {
 
 		if (opt != null) {
 			if (opt.indexOf('s') != -1) {
-				// ֶΣɵֶδɵ
+				// 不拆分字段，读成单字段串构成的序表
 				parseMode = PARSEMODE_SINGLE_STRING;
 			} else if (opt.indexOf('f') != -1) {
-				// ͽ÷ָɴ
+				// 不做类型解析，简单用分隔符拆成串
 				parseMode = PARSEMODE_MULTI_STRING;
 			} else {
 				if (opt.indexOf('d') != -1) {
@@ -158,43 +166,43 @@ public final class LineImporter implements ILineInput {
 			}
 			
 			if (opt.indexOf('q') != -1) {
-				// ţ⣬ת壬ƥ
+				// 剥离数据项两端引号，包括标题，处理转义，处理括号匹配
 				isQuote = true;
 				doQuoteMatch = true;
 			}
 			
 			if (opt.indexOf('a') != -1) {
-				// ˵ţ⣬ת壬ƥ
+				// 剥离数据项两端单引号，包括标题，处理转义，处理括号匹配
 				isSingleQuote = true;
 				doSingleQuoteMatch = true;
 			}
 			
 			if (opt.indexOf('o') != -1) {
-				// ʹExcel׼ת壬˫űʾһţַת壬ƥ
+				// 使用Excel标准转义，串中双个引号表示一个引号，其它字符不转义，处理括号匹配
 				escapeChar = '"';
 				doQuoteMatch = true;
 			}
 			
-			// ʱźţţƥ
+			// 解析时处理括号和引号（含单引号）匹配
 			if (opt.indexOf('p') != -1) {
 				doQuoteMatch = true;
 				//doSingleQuoteMatch = true;
 				doBracketsMatch = true;
 			}
 			
-			// Уβת\
+			// 允许续行（行尾是转义符\）
 			if (opt.indexOf('l') != -1) isContinueLine = true;
 			
-			// ˵Ŀհ׷ȱʡԶtrim
+			// 保留数据项两端的空白符，缺省将自动做trim
 			if (opt.indexOf('k') != -1) isTrim = false;
 		}
 		
-		// BOMͷ
+		// 跳过BOM头
 		init();
 	}
 
 	/**
-	 * ָLineImporter
+	 * 复制指定LineImporter的属性
 	 * @param other
 	 */
 	public void copyProperty(LineImporter other) {
@@ -221,7 +229,7 @@ public final class LineImporter implements ILineInput {
 	}
 	
 	private void init() {
-		// ǷBOMͷ
+		// 检查是否有BOM头
 		try {
 			count = is.read(buffer);
 			position = count;
@@ -248,21 +256,21 @@ public final class LineImporter implements ILineInput {
 				return;
 			}
 			
-			// UTF-16UTF-32зָͻسռöֽڣĿǰûд
+			// UTF-16和UTF-32列分割父和回车会占用多个字节，目前没有处理
 		} catch (IOException e) {
 			throw new RQException(e);
 		}
 	}
 	
 	/**
-	 * ȡת
+	 * 取转义符
 	 * @return char
 	 */
 	public char getEscapeChar() {
 		return escapeChar;
 	}
 	
-	// ļݵ
+	// 读入文件内容到缓冲区
 	private int readBuffer() throws IOException {
 		if (!isEof) {
 			do {
@@ -283,14 +291,14 @@ public final class LineImporter implements ILineInput {
 	}
 
 	/**
-	 * ȡǰĶλ
+	 * 取当前的读入位置
 	 * @return
 	 */
 	public long getCurrentPosition() {
 		return position - count + index;
 	}
 
-	// ָֽ
+	// 跳过输入流指定字节
 	static private long skip(InputStream is, long count) throws IOException {
 		long old = count;
 		while (count > 0) {
@@ -304,8 +312,8 @@ public final class LineImporter implements ILineInput {
 	}
 
 	/**
-	 * ָλãڶ̶߳ȡݣͷȥβ
-	 * @param pos λ
+	 * 跳到指定位置，用于多线程读取数据，会做掐头去尾处理
+	 * @param pos 位置
 	 * @throws IOException
 	 */
 	public void seek(long pos) throws IOException {
@@ -315,7 +323,7 @@ public final class LineImporter implements ILineInput {
 			if (dif < count) {
 				index = count - (int)dif;
 				skipLine();
-			} else { // ֻǰseek
+			} else { // 只能往前seek
 				throw new RuntimeException();
 			}
 		} else {
@@ -327,9 +335,9 @@ public final class LineImporter implements ILineInput {
 	}
 
 	/**
-	 * ֶ
-	 * @param types 
-	 * @param strFmts ʽ飬ʱ
+	 * 设置字段类型
+	 * @param types 类型数组
+	 * @param strFmts 格式数组，用于日期时间
 	 */
 	public void setColTypes(byte []types, String []strFmts) {
 		int count = types.length;
@@ -363,35 +371,35 @@ public final class LineImporter implements ILineInput {
 	}
 
 	/**
-	 * ȡֶ
-	 * @return 
+	 * 取字段类型
+	 * @return 类型数组
 	 */
 	public byte[] getColTypes() {
 		return colTypes;
 	}
 
 	/**
-	 * ѡȡ
-	 * @param index ɵ飬0ʼ
+	 * 设置选取的列
+	 * @param index 列索引组成的数组，从0开始计数
 	 */
 	public void setColSelectIndex(int []index) {
 		this.selIndex = index;
 	}
 
 	/**
-	 * ȡѡɵ飬0ʼ
+	 * 取选出的列序号组成的数组，从0开始计数
 	 * @return
 	 */
 	public int[] getColSelectIndex() {
 		return selIndex;
 	}
 	
-	// һռֽ
+	// 读出下一行数据所占的字节
 	private LineBytes readLineBytes() throws IOException {
-		// ǷڵĻس
+		// 是否跳过引号内的回车
 		boolean skipQuoteEnter = escapeChar == '"';
 		byte[] buffer = this.buffer;
-		byte []prevBuffer = null; // ϴʣֽ
+		byte []prevBuffer = null; // 上次剩余的字节
 		LineBytes line = null;
 		
 		int count = this.count;
@@ -401,7 +409,7 @@ public final class LineImporter implements ILineInput {
 		Next:
 		while (true) {
 			if (index >= count) {
-				// ǰѾ꣬浱ǰݵprevBuffer
+				// 当前缓存的数据已经遍历完，保存当前数据到prevBuffer中
 				int curCount = count - start;
 				if (curCount > 0) {
 					if (prevBuffer == null) {
@@ -416,9 +424,9 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 
-				// ֽ
+				// 读入后面的字节
 				if (readBuffer() <= 0) {
-					if (prevBuffer != null) { // һ
+					if (prevBuffer != null) { // 最后一行
 						return new LineBytes(prevBuffer, 0, prevBuffer.length);
 					} else {
 						return null;
@@ -431,11 +439,11 @@ public final class LineImporter implements ILineInput {
 			}
 			
 			if (buffer[index] == LF) {
-				// ҵнк
+				// 找到行结束符，索引跳到换行后
 				this.index = index + 1;
 				
 				if (index > start) {
-					// LFǰǷCR
+					// 检查LF前是否是CR
 					if (buffer[index - 1] == CR) {
 						index--;
 					}
@@ -454,26 +462,26 @@ public final class LineImporter implements ILineInput {
 					}
 				} else {
 					if (prevBuffer != null) {
-						// ᳵǰǷǻз
+						// 检查会车前是否是换行符
 						int prevLen = prevBuffer.length;
-						if (prevBuffer[prevLen - 1] == CR) { // \rһζĻУindex0
+						if (prevBuffer[prevLen - 1] == CR) { // \r在上一次读出的缓冲区中，index等于0
 							line = new LineBytes(prevBuffer, 0, prevLen -1);
 						} else {
 							line = new LineBytes(prevBuffer, 0, prevLen);
 						}
 					} else {
-						// Ϊգֻлس
+						// 此行内容为空，只有回车
 						line = new LineBytes(buffer, start, 0);
 					}
 				}
 				
 				return line;
 			} else if (skipQuoteEnter && buffer[index] == '"') {
-				// ƥ䣬ŵһַ
+				// 找引号匹配，跳到右引号的下一个字符
 				++index;
 				while (true) {
 					if (index == count) {
-						// 浱ǰݵprevBuffer
+						// 保存当前数据到prevBuffer中
 						int curCount = count - start;
 						if (prevBuffer == null) {
 							prevBuffer = new byte[curCount];
@@ -486,7 +494,7 @@ public final class LineImporter implements ILineInput {
 							prevBuffer = temp;
 						}
 
-						// ֽ
+						// 读入后面的字节
 						if (readBuffer() <= 0) {
 							return new LineBytes(prevBuffer, 0, prevBuffer.length);
 						} else {
@@ -500,14 +508,14 @@ public final class LineImporter implements ILineInput {
 						++index;
 						if (index < count) {
 							if (buffer[index] != '"') {
-								// ҵƥ
+								// 找到引号匹配
 								continue Next;
 							} else {
-								// ˫Ƕת
+								// 连续两个双引号是对引号转义
 								++index;
 							}
 						} else {
-							// 浱ǰݵprevBuffer
+							// 保存当前数据到prevBuffer中
 							int curCount = count - start;
 							if (prevBuffer == null) {
 								prevBuffer = new byte[curCount];
@@ -520,18 +528,18 @@ public final class LineImporter implements ILineInput {
 								prevBuffer = temp;
 							}
 	
-							// ֽ
+							// 读入后面的字节
 							if (readBuffer() <= 0) {
 								return new LineBytes(prevBuffer, 0, prevBuffer.length);
 							} else {
 								count = this.count;
 								start = 0;
 								if (buffer[0] != '"') {
-									// ҵƥ
+									// 找到引号匹配
 									index = 0;
 									continue Next;
 								} else {
-									// ˫Ƕת
+									// 连续两个双引号是对引号转义
 									index = 1;
 								}
 							}
@@ -541,11 +549,11 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 			} else if (isContinueLine && buffer[index] == CONTINUECHAR) {
-				// У鵱ǰַǷǡ\
+				// 如果允许续行，检查当前字符是否是‘\’
 				++index;
 				if (index < count) {
 					if (buffer[index] == LF) { // \n
-						// 浱ǰݵprevBuffer
+						// 保存当前数据到prevBuffer中
 						int curCount = index - start - 1;
 						if (prevBuffer == null) {
 							prevBuffer = new byte[curCount];
@@ -560,7 +568,7 @@ public final class LineImporter implements ILineInput {
 						
 						start = ++index;
 					} else if (buffer[index] == CR) { // \r\n
-						// 浱ǰݵprevBuffer
+						// 保存当前数据到prevBuffer中
 						int curCount = index - start - 1;
 						if (prevBuffer == null) {
 							prevBuffer = new byte[curCount];
@@ -573,10 +581,10 @@ public final class LineImporter implements ILineInput {
 							prevBuffer = temp;
 						}
 						
-						// CRLFLF
+						// CR后面跟着LF，跳到LF
 						++index;
 						if (index == count) {
-							// \nһ
+							// \n在下一个缓冲区
 							if (readBuffer() <= 0) {
 								return new LineBytes(prevBuffer, 0, prevBuffer.length);
 							} else {
@@ -590,7 +598,7 @@ public final class LineImporter implements ILineInput {
 						start = index;
 					}
 				} else {
-					// 浱ǰݵprevBuffer
+					// 保存当前数据到prevBuffer中
 					int curCount = index - start - 1;
 					if (curCount > 0) {
 						if (prevBuffer == null) {
@@ -623,7 +631,7 @@ public final class LineImporter implements ILineInput {
 							index = 0;
 							start = 0;
 							
-							// з뵽֮ǰĻ
+							// 把续行符加入到之前的缓冲区
 							if (prevBuffer == null) {
 								prevBuffer = new byte[]{CONTINUECHAR};
 							} else {
@@ -642,7 +650,7 @@ public final class LineImporter implements ILineInput {
 		}
 	}
 
-	// ÿݶһַ
+	// 每行数据读成一个字符串
 	private String readLineString(LineBytes line) throws IOException {
 		byte[] buffer = line.buffer;
 		int count = line.count;
@@ -664,7 +672,7 @@ public final class LineImporter implements ILineInput {
 		}
 	}
 	
-	// ֶͰѲеУתɶ
+	// 根据字段类型把拆分行的列，并转成对象
 	private Object[] readLine(LineBytes line, byte []colTypes) throws IOException {
 		if (colSeparators != null) {
 			return readLine2(line, colTypes);
@@ -684,18 +692,18 @@ public final class LineImporter implements ILineInput {
 		byte colSeparator = this.colSeparator;
 		int []selIndex = this.selIndex;
 		char escapeChar = this.escapeChar;
-		boolean doQuoteMatch = this.doQuoteMatch; // Ƿƥ
-		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // Ƿƥ
-		boolean doBracketsMatch = this.doBracketsMatch; // Ƿƥ䣨Բššţ
+		boolean doQuoteMatch = this.doQuoteMatch; // 是否做引号匹配
+		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // 是否做单引号匹配
+		boolean doBracketsMatch = this.doBracketsMatch; // 是否做括号匹配（包括圆括号、中括号、花括号）
 		
 		int colIndex = 0;
 		int start = index;
-		int BracketsLevel = 0; // ŵĲpѡʱΪƥֵ
+		int BracketsLevel = 0; // 括号的层数，有p选项时认为括号总是匹配出现的
 		
 		while (index < end && colIndex < colCount) {
 			byte c = buffer[index];
 			if (BracketsLevel == 0 && c == colSeparator) {
-				// н
+				// 列结束
 				if (selIndex == null || selIndex[colIndex] != -1) {
 					values[colIndex] = parse(buffer, start, index, colIndex);
 				}
@@ -703,7 +711,7 @@ public final class LineImporter implements ILineInput {
 				colIndex++;
 				start = ++index;
 			} else if (doQuoteMatch && c == '"') {
-				// ƥ䣬ڵзָ
+				// 找引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '"') {
 						index++;
@@ -715,7 +723,7 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 			} else if (doSingleQuoteMatch && c == '\'') {
-				// ҵƥ䣬ڵзָ
+				// 找单引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '\'') {
 						index++;
@@ -744,8 +752,8 @@ public final class LineImporter implements ILineInput {
 		return values;
 	}
 	
-	// ַзָ
-	// ֶͰѲеУתɶ
+	// 多字符列分隔符
+	// 根据字段类型把拆分行的列，并转成对象
 	private Object[] readLine2(LineBytes line, byte []colTypes) throws IOException {
 		int colCount = colTypes.length;
 		Object []values = new Object[colCount];
@@ -762,17 +770,17 @@ public final class LineImporter implements ILineInput {
 		int sepLen = colSeparators.length;
 		int []selIndex = this.selIndex;
 		char escapeChar = this.escapeChar;
-		boolean doQuoteMatch = this.doQuoteMatch; // Ƿƥ
-		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // Ƿƥ
-		boolean doBracketsMatch = this.doBracketsMatch; // Ƿƥ䣨Բššţ
+		boolean doQuoteMatch = this.doQuoteMatch; // 是否做引号匹配
+		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // 是否做单引号匹配
+		boolean doBracketsMatch = this.doBracketsMatch; // 是否做括号匹配（包括圆括号、中括号、花括号）
 		
 		int colIndex = 0;
 		int start = index;
-		int BracketsLevel = 0; // ŵĲpѡʱΪƥֵ
+		int BracketsLevel = 0; // 括号的层数，有p选项时认为括号总是匹配出现的
 		
 		while (index < end && colIndex < colCount) {
 			if (BracketsLevel == 0 && isColSeparators(buffer, index, end, colSeparators, sepLen)) {
-				// н
+				// 列结束
 				if (selIndex == null || selIndex[colIndex] != -1) {
 					values[colIndex] = parse(buffer, start, index, colIndex);
 				}
@@ -785,7 +793,7 @@ public final class LineImporter implements ILineInput {
 
 			byte c = buffer[index];
 			if (doQuoteMatch && c == '"') {
-				// ƥ䣬ڵзָ
+				// 找引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '"') {
 						index++;
@@ -797,7 +805,7 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 			} else if (doSingleQuoteMatch && c == '\'') {
-				// ҵƥ䣬ڵзָ
+				// 找单引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '\'') {
 						index++;
@@ -826,8 +834,8 @@ public final class LineImporter implements ILineInput {
 		return values;
 	}
 	
-	// ʱ͡ƥ䡢ƥȼ
-	// ֶͰѲеУתɶ
+	// 读数据时会做数据类型、列数匹配、括号匹配等检查
+	// 根据字段类型把拆分行的列，并转成对象
 	private Object[] readLineOnCheck(LineBytes line, byte []colTypes) throws IOException {
 		if (colSeparators != null) {
 			return readLineOnCheck2(line, colTypes);
@@ -847,20 +855,20 @@ public final class LineImporter implements ILineInput {
 		byte colSeparator = this.colSeparator;
 		int []selIndex = this.selIndex;
 		char escapeChar = this.escapeChar;
-		boolean doQuoteMatch = this.doQuoteMatch; // Ƿƥ
-		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // Ƿƥ
-		boolean doBracketsMatch = this.doBracketsMatch; // Ƿƥ䣨Բššţ
+		boolean doQuoteMatch = this.doQuoteMatch; // 是否做引号匹配
+		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // 是否做单引号匹配
+		boolean doBracketsMatch = this.doBracketsMatch; // 是否做括号匹配（包括圆括号、中括号、花括号）
 		boolean checkValueType = this.checkValueType;
 		
 		int colIndex = 0;
 		int start = index;
-		int BracketsLevel = 0; // ŵĲpѡʱΪƥֵ
+		int BracketsLevel = 0; // 括号的层数，有p选项时认为括号总是匹配出现的
 		
 		Next:
 		while (index < end && colIndex < colCount) {
 			byte c = buffer[index];
 			if (BracketsLevel == 0 && c == colSeparator) {
-				// н
+				// 列结束
 				if (selIndex == null || selIndex[colIndex] != -1) {
 					if (checkValueType) {
 						if (!parse(buffer, start, index, colIndex, values)) {
@@ -874,7 +882,7 @@ public final class LineImporter implements ILineInput {
 				colIndex++;
 				start = ++index;
 			} else if (doQuoteMatch && c == '"') {
-				// ƥ䣬ڵзָ
+				// 找引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '"') {
 						index++;
@@ -886,10 +894,10 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 				
-				// ûҵƥŷؿ
+				// 没找到匹配的引号返回空
 				return null;
 			} else if (doSingleQuoteMatch && c == '\'') {
-				// ҵƥ䣬ڵзָ
+				// 找单引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '\'') {
 						index++;
@@ -899,7 +907,7 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 				
-				// ûҵƥĵŷؿ
+				// 没找到匹配的单引号返回空
 				return null;
 			} else if (doBracketsMatch) {
 				if (c == '(' || c == '[' || c == '{') {
@@ -915,7 +923,7 @@ public final class LineImporter implements ILineInput {
 		}
 		
 		if (BracketsLevel != 0) {
-			// вƥ
+			// 有不匹配的括号
 			return null;
 		}
 		
@@ -938,8 +946,8 @@ public final class LineImporter implements ILineInput {
 		return values;
 	}
 
-	// ַзָ
-	// ֶͰѲеУתɶ
+	// 多字符列分隔符
+	// 根据字段类型把拆分行的列，并转成对象
 	private Object[] readLineOnCheck2(LineBytes line, byte []colTypes) throws IOException {
 		int count = line.count;
 		if (count < 1) {
@@ -956,19 +964,19 @@ public final class LineImporter implements ILineInput {
 		int sepLen = colSeparators.length;
 		int []selIndex = this.selIndex;
 		char escapeChar = this.escapeChar;
-		boolean doQuoteMatch = this.doQuoteMatch; // Ƿƥ
-		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // Ƿƥ
-		boolean doBracketsMatch = this.doBracketsMatch; // Ƿƥ䣨Բššţ
+		boolean doQuoteMatch = this.doQuoteMatch; // 是否做引号匹配
+		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // 是否做单引号匹配
+		boolean doBracketsMatch = this.doBracketsMatch; // 是否做括号匹配（包括圆括号、中括号、花括号）
 		boolean checkValueType = this.checkValueType;
 		
 		int colIndex = 0;
 		int start = index;
-		int BracketsLevel = 0; // ŵĲpѡʱΪƥֵ
+		int BracketsLevel = 0; // 括号的层数，有p选项时认为括号总是匹配出现的
 		
 		Next:
 		while (index < end && colIndex < colCount) {
-			if (BracketsLevel == 0 && isColSeparators(buffer, index, end, colSeparators, sepLen)) { // н
-				// н
+			if (BracketsLevel == 0 && isColSeparators(buffer, index, end, colSeparators, sepLen)) { // 列结束
+				// 列结束
 				if (selIndex == null || selIndex[colIndex] != -1) {
 					if (checkValueType) {
 						if (!parse(buffer, start, index, colIndex, values)) {
@@ -987,7 +995,7 @@ public final class LineImporter implements ILineInput {
 			
 			byte c = buffer[index];
 			if (doQuoteMatch && c == '"') {
-				// ƥ䣬ڵзָ
+				// 找引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '"') {
 						index++;
@@ -999,10 +1007,10 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 				
-				// ûҵƥŷؿ
+				// 没找到匹配的引号返回空
 				return null;
 			} else if (doSingleQuoteMatch && c == '\'') {
-				// ҵƥ䣬ڵзָ
+				// 找单引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '\'') {
 						index++;
@@ -1012,7 +1020,7 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 				
-				// ûҵƥĵŷؿ
+				// 没找到匹配的单引号返回空
 				return null;
 			} else if (doBracketsMatch) {
 				if (c == '(' || c == '[' || c == '{') {
@@ -1028,7 +1036,7 @@ public final class LineImporter implements ILineInput {
 		}
 		
 		if (BracketsLevel != 0) {
-			// вƥ
+			// 有不匹配的括号
 			return null;
 		}
 		
@@ -1069,18 +1077,18 @@ public final class LineImporter implements ILineInput {
 		byte colSeparator = this.colSeparator;
 		char escapeChar = this.escapeChar;
 		boolean isTrim = this.isTrim;
-		boolean doQuoteMatch = this.doQuoteMatch; // Ƿƥ
-		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // Ƿƥ
-		boolean doBracketsMatch = this.doBracketsMatch; // Ƿƥ䣨Բššţ
+		boolean doQuoteMatch = this.doQuoteMatch; // 是否做引号匹配
+		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // 是否做单引号匹配
+		boolean doBracketsMatch = this.doBracketsMatch; // 是否做括号匹配（包括圆括号、中括号、花括号）
 		
 		ArrayList<Object> list = new ArrayList<Object>();
-		int BracketsLevel = 0; // ŵĲpѡʱΪƥֵ
-		int start = index; // еʼλ
+		int BracketsLevel = 0; // 括号的层数，有p选项时认为括号总是匹配出现的
+		int start = index; // 列的起始位置
 		
 		while (index < end) {
 			byte c = buffer[index];
 			if (BracketsLevel == 0 && c == colSeparator) {
-				// н
+				// 列结束
 				int len = index - start;
 				if (len > 0) {
 					String str = new String(buffer, start, len, charset);
@@ -1095,7 +1103,7 @@ public final class LineImporter implements ILineInput {
 				
 				start = ++index;
 			} else if (doQuoteMatch && c == '"') {
-				// ƥ䣬ڵзָ
+				// 找引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '"') {
 						index++;
@@ -1107,7 +1115,7 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 			} else if (doSingleQuoteMatch && c == '\'') {
-				// ҵƥ䣬ڵзָ
+				// 找单引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '\'') {
 						index++;
@@ -1158,7 +1166,7 @@ public final class LineImporter implements ILineInput {
 		return true;
 	}
 	
-	// ַзָ
+	// 多字符列分隔符
 	private Object[] readLine2(LineBytes line) throws IOException {
 		int count = line.count;
 		if (count < 1) {
@@ -1174,17 +1182,17 @@ public final class LineImporter implements ILineInput {
 		int sepLen = colSeparators.length;
 		char escapeChar = this.escapeChar;
 		boolean isTrim = this.isTrim;
-		boolean doQuoteMatch = this.doQuoteMatch; // Ƿƥ
-		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // Ƿƥ
-		boolean doBracketsMatch = this.doBracketsMatch; // Ƿƥ䣨Բššţ
+		boolean doQuoteMatch = this.doQuoteMatch; // 是否做引号匹配
+		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // 是否做单引号匹配
+		boolean doBracketsMatch = this.doBracketsMatch; // 是否做括号匹配（包括圆括号、中括号、花括号）
 		
 		ArrayList<Object> list = new ArrayList<Object>();
 		int start = index;
-		int BracketsLevel = 0; // ŵĲpѡʱΪƥֵ
+		int BracketsLevel = 0; // 括号的层数，有p选项时认为括号总是匹配出现的
 		
 		while (index < end) {
 			if (BracketsLevel == 0 && isColSeparators(buffer, index, end, colSeparators, sepLen)) {
-				// н
+				// 列结束
 				int len = index - start;
 				if (len > 0) {
 					String str = new String(buffer, start, len, charset);
@@ -1204,7 +1212,7 @@ public final class LineImporter implements ILineInput {
 
 			byte c = buffer[index];
 			if (doQuoteMatch && c == '"') {
-				// ƥ䣬ڵзָ
+				// 找引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '"') {
 						index++;
@@ -1216,7 +1224,7 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 			} else if (doSingleQuoteMatch && c == '\'') {
-				// ҵƥ䣬ڵзָ
+				// 找单引号匹配，忽略引号内的列分隔符
 				for (++index; index < end; ++index) {
 					if (buffer[index] == '\'') {
 						index++;
@@ -1254,8 +1262,8 @@ public final class LineImporter implements ILineInput {
 	}
 	
 	/**
-	 * 
-	 * @return ֵɵ
+	 * 读入首行
+	 * @return 列值组成的数组
 	 * @throws IOException
 	 */
 	public Object[] readFirstLine() throws IOException {
@@ -1272,7 +1280,7 @@ public final class LineImporter implements ILineInput {
 	}
 	
 	/**
-	 * һУ򷵻null
+	 * 返回下一行，如果结束了则返回null
 	 * @return Object[]
 	 * @throws IOException
 	 */
@@ -1308,7 +1316,7 @@ public final class LineImporter implements ILineInput {
 				}
 			}
 		} else {
-			// PARSEMODE_DEFAULTPARSEMODE_MULTI_STRINGPARSEMODE_SINGLE_STRING
+			// PARSEMODE_DEFAULT、PARSEMODE_MULTI_STRING、PARSEMODE_SINGLE_STRING
 			LineBytes line = readLineBytes();
 			if (line == null) {
 				return null;
@@ -1323,12 +1331,282 @@ public final class LineImporter implements ILineInput {
 	}
 
 	/**
-	 * һУ򷵻false򷵻true
+	 * 是否可以用readLines按列批量读入，需要设置了列类型并且列分隔符是单字节
+	 * @return boolean
+	 */
+	public boolean canReadColumns() {
+		return parseMode == PARSEMODE_DEFAULT && colTypes != null && colSeparators == null;
+	}
+	
+	/**
+	 * 按当前的列类型产生存放列数据的数组，不选出的列为空
+	 * @param capacity 容量
+	 * @return IArray[]
+	 */
+	public IArray[] newColumns(int capacity) {
+		byte []colTypes = this.colTypes;
+		int []selIndex = this.selIndex;
+		int colCount = colTypes.length;
+		IArray []columns = new IArray[colCount];
+		
+		for (int c = 0; c < colCount; ++c) {
+			if (selIndex != null && selIndex[c] == -1) {
+				continue;
+			}
+			
+			switch (colTypes[c]) {
+			case Types.DT_INT:
+				columns[c] = new IntArray(capacity);
+				break;
+			case Types.DT_LONG:
+				columns[c] = new LongArray(capacity);
+				break;
+			case Types.DT_DOUBLE:
+				columns[c] = new DoubleArray(capacity);
+				break;
+			case Types.DT_STRING:
+				columns[c] = new StringArray(capacity);
+				break;
+			case Types.DT_DATE:
+			case Types.DT_DATETIME:
+			case Types.DT_TIME:
+				columns[c] = new DateArray(capacity);
+				break;
+			default:
+				columns[c] = new ObjectArray(capacity);
+			}
+		}
+		
+		return columns;
+	}
+	
+	/**
+	 * 读入多行，每列的值直接解析到列数组中，不再为每行产生对象数组
+	 * 整数、长整数、浮点数和串列不产生中间对象，解析出的值和readLine相同
+	 * 如果某列的值跟数组类型不符，数组会被换成对象数组
+	 * @param columns 由newColumns产生的列数组，容量需要不小于n
+	 * @param n 最多读入的行数
+	 * @param end 读取的结束位置，-1表示读到文件结束
+	 * @return 读入的行数
+	 * @throws IOException
+	 */
+	public int readLines(IArray []columns, int n, long end) throws IOException {
+		int count = 0;
+		for (; count < n; ++count) {
+			if (end != -1 && getCurrentPosition() > end) {
+				break;
+			}
+			
+			LineBytes line = readLineBytes();
+			if (line == null) {
+				break;
+			}
+			
+			readLine(line, columns, n);
+		}
+		
+		return count;
+	}
+	
+	// 拆分行的列，并把值追加到列数组中
+	private void readLine(LineBytes line, IArray []columns, int capacity) throws IOException {
+		int colCount = columns.length;
+		byte[] buffer = line.buffer;
+		int index = line.i;
+		int end = index + line.count;
+		
+		byte colSeparator = this.colSeparator;
+		char escapeChar = this.escapeChar;
+		boolean doQuoteMatch = this.doQuoteMatch; // 是否做引号匹配
+		boolean doSingleQuoteMatch = this.doSingleQuoteMatch; // 是否做单引号匹配
+		boolean doBracketsMatch = this.doBracketsMatch; // 是否做括号匹配（包括圆括号、中括号、花括号）
+		
+		int colIndex = 0;
+		int start = index;
+		int BracketsLevel = 0; // 括号的层数，有p选项时认为括号总是匹配出现的
+		
+		while (index < end && colIndex < colCount) {
+			byte c = buffer[index];
+			if (BracketsLevel == 0 && c == colSeparator) {
+				// 列结束
+				if (columns[colIndex] != null) {
+					parse(buffer, start, index, colIndex, columns, capacity);
+				}
+				
+				colIndex++;
+				start = ++index;
+			} else if (doQuoteMatch && c == '"') {
+				// 找引号匹配，忽略引号内的列分隔符
+				for (++index; index < end; ++index) {
+					if (buffer[index] == '"') {
+						index++;
+						if (escapeChar != '"' || index == end || buffer[index] != '"') {
+							break;
+						}
+					} else if (buffer[index] == escapeChar) {
+						index++;
+					}
+				}
+			} else if (doSingleQuoteMatch && c == '\'') {
+				// 找单引号匹配，忽略引号内的列分隔符
+				for (++index; index < end; ++index) {
+					if (buffer[index] == '\'') {
+						index++;
+						break;
+					} else if (buffer[index] == escapeChar) {
+						index++;
+					}
+				}
+			} else if (doBracketsMatch) {
+				if (c == '(' || c == '[' || c == '{') {
+					BracketsLevel++;
+				} else if (BracketsLevel > 0 && (c == ')' || c == ']' || c == '}')) {
+					BracketsLevel--;
+				}
+				
+				index++;
+			} else {
+				index++;
+			}
+		}
+		
+		if (colIndex < colCount) {
+			if (columns[colIndex] != null) {
+				if (line.count > 0) {
+					parse(buffer, start, end, colIndex, columns, capacity);
+				} else {
+					columns[colIndex].pushNull();
+				}
+			}
+			
+			// 列数不足的行后面的列为空
+			for (++colIndex; colIndex < colCount; ++colIndex) {
+				if (columns[colIndex] != null) {
+					columns[colIndex].pushNull();
+				}
+			}
+		}
+	}
+	
+	// 把字节数组解析成值追加到列数组中，数值和串直接追加到对应类型的数组
+	private void parse(byte []bytes, int start, int end, int col, IArray []columns, int capacity) 
+			throws UnsupportedEncodingException {
+		if (isTrim) {
+			while (start < end && Character.isWhitespace(bytes[start])) {
+				start++;
+			}
+			
+			while (end > start && Character.isWhitespace(bytes[end - 1])) {
+				end--;
+			}
+		}
+		
+		IArray array = columns[col];
+		if (start >= end) {
+			array.pushNull();
+			return;
+		}
+		
+		byte c = bytes[start];
+		if (!(isQuote && c == '"') && !(isSingleQuote && c == '\'')) {
+			byte type = colTypes[col];
+			if (type == Types.DT_INT && array instanceof IntArray) {
+				if (bytes[end - 1] != 'L' && parseLongValue(bytes, start, end) && 
+						parsedLong >= Integer.MIN_VALUE && parsedLong <= Integer.MAX_VALUE) {
+					((IntArray)array).pushInt((int)parsedLong);
+					return;
+				}
+			} else if (type == Types.DT_LONG && array instanceof LongArray) {
+				int e = end - start > 1 && bytes[end - 1] == 'L' ? end - 1 : end;
+				if (parseLongValue(bytes, start, e)) {
+					((LongArray)array).push(parsedLong);
+					return;
+				}
+			} else if (type == Types.DT_DOUBLE && array instanceof DoubleArray) {
+				if (bytes[end - 1] != '%') {
+					try {
+						FloatingDecimal fd = FloatingDecimal.readJavaFormatString(bytes, start, end);
+						if (fd != null) {
+							((DoubleArray)array).push(fd.doubleValue());
+							return;
+						}
+					} catch (RuntimeException e) {
+					}
+				}
+			} else if (type == Types.DT_STRING && array instanceof StringArray) {
+				String str = new String(bytes, start, end - start, charset);
+				if (isNull(str)) {
+					array.pushNull();
+				} else {
+					((StringArray)array).push(str);
+				}
+				
+				return;
+			}
+		}
+		
+		Object val = parse(bytes, start, end, col);
+		if (val == null) {
+			array.pushNull();
+		} else if (array instanceof ObjectArray || (array instanceof IntArray && val instanceof Integer) ||
+				(array instanceof LongArray && val instanceof Long) ||
+				(array instanceof DoubleArray && val instanceof Double) ||
+				(array instanceof StringArray && val instanceof String) ||
+				(array instanceof DateArray && val instanceof Date)) {
+			array.push(val);
+		} else {
+			// 值的类型跟数组不符，换成对象数组
+			array = array.toObjectArray();
+			array.ensureCapacity(capacity);
+			array.push(val);
+			columns[col] = array;
+		}
+	}
+	
+	// 解析十进制整数，结果放在parsedLong中，不是整数则返回false
+	private boolean parseLongValue(byte []bytes, int i, int e) {
+		boolean negative = false;
+		long limit;
+		if (bytes[i] == '-') {
+			negative = true;
+			limit = Long.MIN_VALUE;
+			i++;
+		} else {
+			limit = -Long.MAX_VALUE;
+		}
+
+		if (i == e) {
+			return false;
+		}
+		
+		long multmin = limit / 10;
+		long result = 0;
+		while (i < e) {
+			// 按负数累加，避免在MAX_VALUE附近溢出
+			int digit = bytes[i++] - '0';
+			if (digit < 0 || digit > 9 || result < multmin) {
+				return false;
+			}
+			
+			result *= 10;
+			if (result < limit + digit) {
+				return false;
+			}
+			
+			result -= digit;
+		}
+
+		parsedLong = negative ? result : -result;
+		return true;
+	}
+
+	/**
+	 * 跳过下一行，如果结束了则返回false，否则返回true
 	 * @return boolean
 	 * @throws IOException
 	 */
 	public boolean skipLine() throws IOException {
-		// ǷڵĻس
+		// 是否跳过引号内的回车
 		boolean skipQuoteEnter = escapeChar == '"';
 		byte[] buffer = this.buffer;
 		int count = this.count;
@@ -1338,7 +1616,7 @@ public final class LineImporter implements ILineInput {
 		Next:
 		while (true) {
 			if (index >= count) {
-				// ֽ
+				// 读入后面的字节
 				if (readBuffer() <= 0) {
 					return sign;
 				} else {
@@ -1352,11 +1630,11 @@ public final class LineImporter implements ILineInput {
 				this.index = index + 1;
 				return true;
 			} else if (skipQuoteEnter && buffer[index] == '"') {
-				// ƥ䣬ŵһַ
+				// 找引号匹配，跳到右引号的下一个字符
 				++index;
 				while (true) {
 					if (index == count) {
-						// ֽ
+						// 读入后面的字节
 						if (readBuffer() <= 0) {
 							return true;
 						} else {
@@ -1369,24 +1647,24 @@ public final class LineImporter implements ILineInput {
 						++index;
 						if (index < count) {
 							if (buffer[index] != '"') {
-								// ҵƥ
+								// 找到引号匹配
 								continue Next;
 							} else {
-								// ˫Ƕת
+								// 连续两个双引号是对引号转义
 								++index;
 							}
 						} else {
-							// ֽ
+							// 读入后面的字节
 							if (readBuffer() <= 0) {
 								return true;
 							} else {
 								count = this.count;
 								if (buffer[0] != '"') {
-									// ҵƥ
+									// 找到引号匹配
 									index = 0;
 									continue Next;
 								} else {
-									// ˫Ƕת
+									// 连续两个双引号是对引号转义
 									index = 1;
 								}
 							}
@@ -1396,16 +1674,16 @@ public final class LineImporter implements ILineInput {
 					}
 				}
 			} else if (isContinueLine && buffer[index] == CONTINUECHAR) {
-				// У鵱ǰַǷǡ\
+				// 如果允许续行，检查当前字符是否是‘\’
 				++index;
 				if (index < count) {
 					if (buffer[index] == LF) { // \n
 						++index;
 					} else if (buffer[index] == CR) { // \r\n
-						// CRLFLF
+						// CR后面跟着LF，跳到LF
 						++index;
 						if (index == count) {
-							// \nһ
+							// \n在下一个缓冲区
 							if (readBuffer() <= 0) {
 								return true;
 							} else {
@@ -1436,17 +1714,17 @@ public final class LineImporter implements ILineInput {
 		}
 	}
 
-	// һеʼλã-1
+	// 返回下一行的起始位置，结束返回-1
 	public static int readLine(char []buffer, int index, char colSeparator, ArrayList<String> line) {
 		int start = index;
 		int count = buffer.length;
 		while (index < count) {
-			if (buffer[index] == colSeparator) { // н
+			if (buffer[index] == colSeparator) { // 列结束
 				line.add(new String(buffer, start, index - start));
 				index++;
 				start = index;
 			} else if (buffer[index] == LineImporter.LF) { // \n
-				// \r\n  \nֻзҪ
+				// \r\n 或 \n两种换行符都要兼容
 				if (index > start) {
 					if (buffer[index - 1] == LineImporter.CR) {
 						line.add(new String(buffer, start, index - start - 1));
@@ -1467,22 +1745,22 @@ public final class LineImporter implements ILineInput {
 
 		if (count > start) {
 			line.add(new String(buffer, start, count - start));
-		} else if (line.size() > 0) { // һֶο
+		} else if (line.size() > 0) { // 最后一个字段空
 			line.add(null);
-		} // 
+		} // 空行
 
 		return -1;
 	}
 
 	/**
-	 * ر
+	 * 关闭输入
 	 * @throws IOException
 	 */
 	public void close() throws IOException {
 		is.close();
 	}
 	
-	// жַǷǱʾnullıʶ
+	// 判断字符串是否是表示null的标识符
 	private static boolean isNull(String str) {
 		String []nulls = Env.getNullStrings();
 		if (nulls != null) {
@@ -1496,13 +1774,13 @@ public final class LineImporter implements ILineInput {
 		return false;
 	}
 	
-	// ַɶ
+	// 把字符串解析成对象
 	private Object parse(String str) {
 		int len = str.length();
 		if (len > 1) {
 			char c = str.charAt(0);
 			if ((isQuote && c == '"') || (isSingleQuote && c == '\'')) {
-				// ڽβǷ
+				// 在结尾是否有引号
 				if (str.charAt(len - 1) == c) {
 					return Escape.remove(str.substring(1, len - 1), escapeChar);
 				} else {
@@ -1522,7 +1800,7 @@ public final class LineImporter implements ILineInput {
 		}
 	}
 	
-	// ֽɶ
+	// 把字节数组解析成对象
 	private Object parse(byte []bytes, int start, int end, int col) throws UnsupportedEncodingException {
 		if (isTrim) {
 			while (start < end && Character.isWhitespace(bytes[start])) {
@@ -1541,7 +1819,7 @@ public final class LineImporter implements ILineInput {
 		byte []types = this.colTypes;
 		byte c = bytes[start];
 		if ((isQuote && c == '"') || (isSingleQuote && c == '\'')) {
-			// ڽβǷ
+			// 在结尾是否有引号
 			if (bytes[end - 1] == c) {
 				start++;
 				end--;
@@ -1559,7 +1837,7 @@ public final class LineImporter implements ILineInput {
 				return new String(bytes, start, end - start, charset);
 			}
 		} else if (parseMode == PARSEMODE_MULTI_STRING) {
-			// ֱӷش
+			// 直接返回串
 			String str = new String(bytes, start, end - start, charset);
 			if (isNull(str)) {
 				return null;
@@ -1700,7 +1978,7 @@ public final class LineImporter implements ILineInput {
 		}
 	}
 	
-	// ֽɶͲ򷵻false
+	// 把字节数组解析成对象，如果类型不符则返回false
 	private boolean parse(byte []bytes, int start, int end, int col, Object []outValue) throws UnsupportedEncodingException {
 		if (isTrim) {
 			while (start < end && bytes[start] == ' ') {
@@ -1719,7 +1997,7 @@ public final class LineImporter implements ILineInput {
 		byte []types = this.colTypes;
 		byte c = bytes[start];
 		if ((isQuote && c == '"') || (isSingleQuote && c == '\'')) {
-			// ڽβǷ
+			// 在结尾是否有引号
 			if (bytes[end - 1] == c) {
 				start++;
 				end--;
@@ -1741,7 +2019,7 @@ public final class LineImporter implements ILineInput {
 				return true;
 			}
 		} else if (parseMode == PARSEMODE_MULTI_STRING) {
-			// ֱӷش
+			// 直接返回串
 			String str = new String(bytes, start, end - start, charset);
 			if (isNull(str)) {
 				outValue[col] = null;
@@ -1906,7 +2184,7 @@ public final class LineImporter implements ILineInput {
 		}
 	}
 	
-	// ֵֵ򷵻ؿ
+	// 解析整数值，不是整数值则返回空
 	private static Integer parseInt(byte []bytes, int i, int e) {
 		int result = 0;
 		boolean negative = false;
@@ -1959,7 +2237,7 @@ public final class LineImporter implements ILineInput {
 		}
 	}
 	
-	// LongֵLongֵ򷵻ؿ
+	// 解析Long值，不是Long值则返回空
 	private static Long parseLong(byte []bytes, int i, int e) {
 		// 1L
 		if (e - i > 1 && bytes[e - 1] == 'L') e--;
@@ -2015,7 +2293,7 @@ public final class LineImporter implements ILineInput {
 		}
 	}
 
-	// LongֵLongֵ򷵻ؿ
+	// 解析Long值，不是Long值则返回空
 	private static Long parseLong(byte []bytes, int i, int e, int radix) {
 		long result = 0;
 		boolean negative = false;
@@ -2067,7 +2345,7 @@ public final class LineImporter implements ILineInput {
 		}
 	}
 
-	// ֵǲֵ򷵻ؿ
+	// 解析布尔值，不是布尔值则返回空
 	private static Boolean parseBoolean(byte []bytes, int i, int e) {
 		int count = e - i;
 		if (count == 4) {
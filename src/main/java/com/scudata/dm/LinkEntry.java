@@ -1,7 +1,7 @@
 package com.scudata.dm;
 
 /**
- * Ŀ
+ * 链表条目
  * @author WangXiaoJun
  *
  * @param <E>
@@ -11,17 +11,17 @@ public class LinkEntry<E> {
 	private LinkEntry<E> next;
 	
 	/**
-	 * Ŀ
-	 * @param element Ԫֵ
+	 * 构建链表条目
+	 * @param element 元素值
 	 */
 	public LinkEntry(E element) {
 		this.element = element;
 	}
 	
 	/**
-	 * Ŀ
-	 * @param element Ԫֵ
-	 * @param next һĿ
+	 * 构建链表条目
+	 * @param element 元素值
+	 * @param next 下一个链表条目
 	 */
 	public LinkEntry(E element, LinkEntry<E> next) {
 		this.element = element;
@@ -29,7 +29,7 @@ public class LinkEntry<E> {
 	}
 	
 	/**
-	 * ȡԪֵ
+	 * 取元素值
 	 * @return
 	 */
 	public E getElement() {
@@ -37,7 +37,7 @@ public class LinkEntry<E> {
 	}
 	
 	/**
-	 * ȡһĿ
+	 * 取下一个条目
 	 * @return
 	 */
 	public LinkEntry<E> getNext() {
@@ -45,7 +45,7 @@ public class LinkEntry<E> {
 	}
 	
 	/**
-	 * һĿ
+	 * 设置下一个条目
 	 * @param next
 	 */
 	public void setNext(LinkEntry<E> next) {
@@ -11,7 +11,7 @@ import com.scudata.thread.MultithreadUtil;
 import com.scudata.util.Variant;
 
 /**
- * 1ʼб
+ * 索引从1开始计数的列表
  * @author WangXiaoJun
  *
  */
@@ -22,8 +22,8 @@ public class ListBase1 implements Externalizable, IRecord {
 	protected int size;
 
 	/**
-	 * һָʼĿlist.
-	 * @param initialCapacity ʼ.
+	 * 构建一指定初始容量的空list.
+	 * @param initialCapacity 初始容量.
 	 */
 	public ListBase1(int initialCapacity) {
 		if (initialCapacity > 0) {
@@ -34,14 +34,14 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * һʼΪ10Ŀб.
+	 * 构建一初始容量为10的空列表.
 	 */
 	public ListBase1() {
 		this(10);
 	}
 
 	/**
-	 * һָԪصб
+	 * 构建一指定元素的列表
 	 * @param v Object[]
 	 */
 	public ListBase1(Object []v) {
@@ -51,8 +51,8 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ƶ
-	 * @param src Դ
+	 * 复制对象
+	 * @param src 源对象
 	 */
 	public ListBase1(ListBase1 src) {
 		size = src.size;
@@ -63,7 +63,7 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * бʹԪ
+	 * 调整列表的容量，使其与元素数相等
 	 */
 	public void trimToSize() {
 		int newLen = size + 1;
@@ -75,8 +75,8 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ʹбСminCapacity
-	 * @param minCapacity С
+	 * 使列表的容量不小于minCapacity
+	 * @param minCapacity 最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 		int oldSize = elementData.length;
@@ -93,7 +93,7 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * бԪĿ
+	 * 返回列表的元素数目
 	 * @return int
 	 */
 	public int size() {
@@ -101,7 +101,7 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * бǷΪ.
+	 * 返回列表是否为空.
 	 * @return boolean
 	 */
 	public boolean isEmpty() {
@@ -109,9 +109,9 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * бǷָԪ
-	 * @param elem Object ҵԪ
-	 * @return boolean truefalse
+	 * 返回列表中是否包含指定元素
+	 * @param elem Object 待查找的元素
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object elem) {
 		for (int i = 1; i <= size; ++i) {
@@ -121,9 +121,9 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * бǷָԪأʹõȺűȽ
+	 * 返回列表中是否包含指定元素，使用等号比较
 	 * @param elem
-	 * @return boolean truefalse
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean objectContains(Object elem) {
 		for (int i = 1; i <= size; ++i) {
@@ -133,10 +133,10 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * бǷָԪ
-	 * @param elem Object ҵԪ
-	 * @param comparator Comparator<Object> Ƚ
-	 * @return boolean truefalse
+	 * 返回列表中是否包含指定元素
+	 * @param elem Object 待查找的元素
+	 * @param comparator Comparator<Object> 比较器
+	 * @return boolean true：包含，false：不包含
 	 */
 	public boolean contains(Object elem, Comparator<Object> comparator) {
 		for (int i = 1; i <= size; ++i) {
@@ -146,7 +146,7 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * listԪؽ
+	 * 对list的元素进行排序
 	 * @param comparator Comparator<Object>
 	 */
 	public void sort(Comparator<Object> comparator) {
@@ -154,19 +154,19 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem Object
 	 * @param comparator Comparator<Object>
-	 * @return int Ԫص,ڷظĲλ.
+	 * @return int 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem, Comparator<Object> comparator) {
 		return binarySearch(elem, 1, size, comparator);
 	}
 
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem
-	 * @return int Ԫص,ڷظĲλ.
+	 * @return int 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem) {
 		Object[] elementData = this.elementData;
@@ -187,12 +187,12 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ַָԪ
+	 * 二分法查找指定元素
 	 * @param elem Object
-	 * @param low int ʼλ()
-	 * @param high int   λ()
+	 * @param low int 起始位置(包含)
+	 * @param high int   结束位置(包含)
 	 * @param comparator Comparator<Object>
-	 * @return int Ԫص,ڷظĲλ.
+	 * @return int 元素的索引,如果不存在返回负的插入位置.
 	 */
 	public int binarySearch(Object elem, int low, int high, Comparator<Object> comparator) {
 		Object[] elementData = this.elementData;
@@ -212,11 +212,11 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Ԫسֵλ
+	 * 返回元素出现的位置
 	 * @param elem Object
-	 * @param start int ʼλ()
-	 * @param end int   λ()
-	 * @return int Ԫزڷ-1
+	 * @param start int 起始位置(包含)
+	 * @param end int   结束位置(包含)
+	 * @return int 如果元素不存在返回-1
 	 */
 	public int indexOf(Object elem, int start, int end) {
 		for (int i = start; i <= end; ++i) {
@@ -229,9 +229,9 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Ԫ״γֵλ
-	 * @param elem ҵԪ
-	 * @return  Ԫزڷ-1
+	 * 返回元素首次出现的位置
+	 * @param elem 待查找的元素
+	 * @return  如果元素不存在返回-1
 	 */
 	public int firstIndexOf(Object elem) {
 		for (int i = 1; i <= size; ++i) {
@@ -244,10 +244,10 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Ԫ״γֵλ
+	 * 返回元素首次出现的位置
 	 * @param elem Object
-	 * @param isSorted boolean бǷ
-	 * @return int Ԫزڷ-1
+	 * @param isSorted boolean 列表是否是有序的
+	 * @return int 如果元素不存在返回-1
 	 */
 	public int firstIndexOf(Object elem, boolean isSorted) {
 		if (isSorted) {
@@ -256,7 +256,7 @@ public class ListBase1 implements Externalizable, IRecord {
 				return -1;
 			}
 
-			// ǰȽϣҵһobjͬԪ
+			// 往前比较，找到第一个与obj相同的元素
 			Object []elementData = this.elementData;
 			while (index > 1) {
 				if (Variant.isEquals(elem, elementData[index - 1])) {
@@ -279,9 +279,9 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Ԫֵλ
+	 * 返回元素最后出现的位置
 	 * @param elem Object
-	 * @return Ԫزڷ-1
+	 * @return 如果元素不存在返回-1
 	 */
 	public int lastIndexOf(Object elem) {
 		for (int i = size; i > 0; --i) {
@@ -294,11 +294,11 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Ԫֵλ
+	 * 返回元素最后出现的位置
 	 * @param elem Object
 	 * @param comparator Comparator<Object>
-	 * @param isSorted boolean listǷ
-	 * @return int Ԫزڷ-1
+	 * @param isSorted boolean list是否是有序的
+	 * @return int 如果元素不存在返回-1
 	 */
 	public int lastIndexOf(Object elem, Comparator<Object> comparator, boolean isSorted) {
 		if (isSorted) {
@@ -307,7 +307,7 @@ public class ListBase1 implements Externalizable, IRecord {
 				return -1;
 			}
 
-			// ǰȽϣҵһobjͬԪ
+			// 往前比较，找到第一个与obj相同的元素
 			Object []elementData = this.elementData;
 			while (index < size) {
 				if (comparator.compare(elem, elementData[index + 1]) == 0) {
@@ -330,7 +330,7 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * listԪعɵ
+	 * 返回list的元素构成的数组
 	 * @return Object[]
 	 */
 	public Object[] toArray() {
@@ -340,7 +340,7 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Ԫθaa
+	 * 把元素依次赋给a，并返回a
 	 * @param a Object[]
 	 * @return Object[]
 	 */
@@ -355,7 +355,7 @@ public class ListBase1 implements Externalizable, IRecord {
 
 	/**
 	 * Returns the element at the specified position in this list.
-	 * @param  index index of element to return. 1ʼ
+	 * @param  index index of element to return. 从1开始计数
 	 * @return the element at the specified position in this list.
 	 */
 	public Object get(int index) {
@@ -409,7 +409,7 @@ public class ListBase1 implements Externalizable, IRecord {
 		return oldValue;
 	}
 
-	// ɾԪأŴС
+	// 删除多个元素，序号从小到大排序
 	public void remove(int []seqs) {
 		int delCount = 0;
 		for (int i = 0, len = seqs.length; i < len; ) {
@@ -485,7 +485,7 @@ public class ListBase1 implements Externalizable, IRecord {
 		size += numNew;
 	}
 	
-	// srcStartԴʼλãsrcEndԴλã
+	// srcStart源起始位置（包括），srcEnd源结束位置（不包括）
 	public void addSection(ListBase1 src, int srcStart, int srcEnd) {
 		int numNew = srcEnd - srcStart;
 		ensureCapacity(size + numNew);  // Increments modCount
@@ -584,8 +584,8 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * дݵ
-	 * @param out 
+	 * 写内容到流
+	 * @param out 输出流
 	 * @throws IOException
 	 */
 	public void writeExternal(java.io.ObjectOutput out) throws java.io.IOException {
@@ -600,13 +600,13 @@ public class ListBase1 implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ж
-	 * @param in 
+	 * 从流中读内容
+	 * @param in 输入流
 	 * @throws IOException
 	 * @throws ClassNotFoundException
 	 */
 	public void readExternal(java.io.ObjectInput in) throws java.io.IOException, ClassNotFoundException {
-		in.readByte(); // 汾
+		in.readByte(); // 版本
 		size = in.readInt();
 		int length = in.readInt();
 		Object elementData[] = new Object[length];
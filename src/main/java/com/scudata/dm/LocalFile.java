@@ -16,14 +16,14 @@ import com.scudata.common.RQException;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ļ
+ * 本地文件
  * @author WangXiaoJun
  *
  */
 public class LocalFile implements IFile {
 	private String fileName;
 	private String opt;
-	private String parent; // ·
+	private String parent; // 父路径
 	private Context ctx;
 	private Integer partition;
 	
@@ -33,10 +33,10 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * ļ
-	 * @param fileName ··
+	 * 创建本地文件
+	 * @param fileName 相对路径或绝对路径
 	 * @param opt 
-	 * @param ctx Ҫʱnull
+	 * @param ctx 不需要时传null
 	 */
 	public LocalFile(String fileName, String opt, Context ctx) {
 		this.fileName = fileName;
@@ -45,7 +45,7 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * Ⱥʹ
+	 * 集群函数使用
 	 * @param fileName
 	 * @param opt
 	 * @param partition
@@ -58,7 +58,7 @@ public class LocalFile implements IFile {
 			this.partition = partition;
 			//parent = Env.getMappingPath(partition);
 			
-			// ҳļʼλ
+			// 找出文件名的起始位置
 			int index = fileName.lastIndexOf('\\');
 			if (index == -1) {
 				index = fileName.lastIndexOf('/');
@@ -74,7 +74,7 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * øļ
+	 * 设置父文件夹
 	 * @param parent
 	 */
 	public void setParent(String parent) {
@@ -82,7 +82,7 @@ public class LocalFile implements IFile {
 	}
 		
 	/**
-	 * ļ
+	 * 设置文件名
 	 * @param fileName
 	 */
 	public void setFileName(String fileName) {
@@ -103,7 +103,7 @@ public class LocalFile implements IFile {
 	}
 	
 	/**
-	 * ļ·
+	 * 生成文件，不找搜索路径
 	 * @return File
 	 */
 	public File file() {
@@ -111,7 +111,7 @@ public class LocalFile implements IFile {
 			return new File(parent, fileName);
 		}
 		
-		// appHomefileNameֻ·
+		// 如果设置了appHome，则fileName只能是相对路径
 		File appHome = getAppHome();
 		if (appHome != null) {
 			String mainPath = Env.getMainPath();
@@ -136,7 +136,7 @@ public class LocalFile implements IFile {
 	}
 	
 	/**
-	 * ļļڷnull
+	 * 查找文件，如果文件不存在返回null
 	 * @return
 	 */
 	public File getFile() {
@@ -147,10 +147,10 @@ public class LocalFile implements IFile {
 			}
 		}
 		
-		// appHomefileNameֻ·
+		// 如果设置了appHome，则fileName只能是相对路径
 		File appHome = getAppHome();
 		if (appHome != null) {
-			// ѡsʱ··бĿ¼
+			// 带选项s时先找类路径，再找路径列表，最后找主目录
 			if (isSearchPath() && Env.getPaths() != null) {
 				for (String path : Env.getPaths()) {
 					File tmpFile = new File(appHome, path);
@@ -181,7 +181,7 @@ public class LocalFile implements IFile {
 			}
 		}
 
-		// ѡsʱ··бĿ¼
+		// 带选项s时先找类路径，再找路径列表，最后找主目录
 		if (isSearchPath()) {
 			String []paths = Env.getPaths();
 			if (paths != null) {
@@ -207,7 +207,7 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * ȡ
+	 * 取输入流
 	 * @throws IOException
 	 * @return InputStream
 	 */
@@ -218,10 +218,10 @@ public class LocalFile implements IFile {
 				if (file.exists()) return new FileInputStream(file);
 			}
 
-			// appHomefileNameֻ·
+			// 如果设置了appHome，则fileName只能是相对路径
 			File appHome = getAppHome();
 			if (appHome != null) {
-				// ѡsʱ··бĿ¼
+				// 带选项s时先找类路径，再找路径列表，最后找主目录
 				if (isSearchPath()) {
 					InputStream in = IOUtils.findResource(fileName);
 					if (in != null) return in;
@@ -256,7 +256,7 @@ public class LocalFile implements IFile {
 				return new FileInputStream(fileName);
 			}
 
-			// ѡsʱ··бĿ¼
+			// 带选项s时先找类路径，再找路径列表，最后找主目录
 			if (isSearchPath()) {
 				InputStream in = IOUtils.findResource(fileName);
 				if (in != null) return in;
@@ -286,8 +286,8 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * ȡļ򴴽
-	 * @param isAppend boolean Ƿ׷
+	 * 取输出流，文件不存在则创建
+	 * @param isAppend boolean 是否追加
 	 * @throws FileNotFoundException
 	 * @return OutputStream
 	 */
@@ -302,8 +302,8 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * ȡܹдļ򴴽
-	 * @param isAppend boolean Ƿ׷
+	 * 取能够随机写的输出流，文件不存在则创建
+	 * @param isAppend boolean 是否追加
 	 * @return RandomOutputStream
 	 */
 	public RandomOutputStream getRandomOutputStream(boolean isAppend) {
@@ -330,7 +330,7 @@ public class LocalFile implements IFile {
 			return new File(parent, fileName);
 		}
 
-		// appHomefileNameֻ·
+		// 如果设置了appHome，则fileName只能是相对路径
 		File appHome = getAppHome();
 		if (appHome != null) {
 			String mainPath = Env.getMainPath();
@@ -355,16 +355,16 @@ public class LocalFile implements IFile {
 	}
 	
 	/**
-	 * ļǷ
+	 * 返回文件是否存在
 	 * @return boolean
 	 */
 	public boolean exists() {
-		// resourceFileûҵ
+		// resource里的用File没法找到
 		//return getFile() != null;
 		
 		InputStream is = null;
 		try {
-			// ļڻ쳣
+			// 如果文件不存在会抛异常
 			is = getInputStream();
 			return true;
 		} catch (Exception e) {
@@ -380,7 +380,7 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * ļС
+	 * 返回文件大小
 	 * @return long
 	 */
 	public long size() {
@@ -393,7 +393,7 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * ޸ʱ
+	 * 返回最近修改时间
 	 * @return long
 	 */
 	public long lastModified() {
@@ -406,7 +406,7 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * ɾļǷɹ
+	 * 删除文件，返回是否成功
 	 * @return boolean
 	 */
 	public boolean delete() {
@@ -419,7 +419,7 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * ɾ·ļ·
+	 * 删除路径及其下面的子文件和子路径
 	 * @return
 	 */
 	public boolean deleteDir() {
@@ -443,11 +443,11 @@ public class LocalFile implements IFile {
 	}
 	
 	/**
-	 * ƶļpathpathֻļ
-	 * @param dest String Ŀļļ·
-	 * @param opt String yĿļѴʱǿиȱʡʧܣcƣ
-	 * 					 pĿļĿ¼Ŀ¼ĬԴļĸĿ¼
-	 * @return boolean trueɹfalseʧ
+	 * 移动文件到path，path只有文件名则改名
+	 * @param dest String 目标文件名或文件路径名
+	 * @param opt String y：目标文件已存在时强行复制缺省将失败，c：复制，
+	 * 					 p：目标文件是相对目录是相对于主目录，默认是相对于源文件的父目录
+	 * @return boolean true：成功，false：失败
 	 */
 	public boolean move(String dest, String opt) {
 		File file = getFile();
@@ -483,7 +483,7 @@ public class LocalFile implements IFile {
 			throw new RQException(mm.getMessage("file.fileNotExist", dest));
 		}
 
-		// ļԶԴļ
+		// 如果不带文件名，自动用源文件名
 		if (destFile.isDirectory() && !file.isDirectory()) {
 			destFile = new File(destFile, file.getName());
 		}
@@ -508,9 +508,9 @@ public class LocalFile implements IFile {
 	}
 
 	/**
-	 * ʱļ
+	 * 创建临时文件
 	 * @param prefix String
-	 * @return String ؾ·ļ
+	 * @return String 返回绝对路径文件名
 	 */
 	public String createTempFile(String prefix) {
 		try {
@@ -539,10 +539,10 @@ public class LocalFile implements IFile {
 	}
 	
 	/**
-	 * Ѹ·ɾǰĿ¼Ŀ¼·
-	 * @param pathName ļ·
-	 * @param ctx 
-	 * @return ȡ·
+	 * 把给定的路径名删除前面的主目录，返回相对于主目录的路径
+	 * @param pathName 文件路径名
+	 * @param ctx 计算上下文
+	 * @return 截取后的相对路径名
 	 */
 	public static String removeMainPath(String pathName, Context ctx) {
 		File home = null;
@@ -566,7 +566,7 @@ public class LocalFile implements IFile {
 		String strHome = home.getAbsolutePath();
 		int len = strHome.length();
 		if (pathName.length() > len && pathName.substring(0, len).equalsIgnoreCase(strHome)) {
-			// ȥǰбܻб
+			// 去掉前面的斜杠或反斜杠
 			char c = pathName.charAt(len);
 			if (c == '\\' || c == '/') {
 				len++;
@@ -585,9 +585,9 @@ public class LocalFile implements IFile {
 	}
 	
 	/**
-	 * ļָļ
-	 * @param s Դļ
-	 * @param t Ŀļ
+	 * 复制文件到指定文件夹下
+	 * @param s 源文件
+	 * @param t 目标文件夹
 	 * @return
 	 */
 	public static boolean copyDirectory(File s, File t) {
@@ -613,10 +613,10 @@ public class LocalFile implements IFile {
 	}
 	
 	/**
-	 * ļݵָļ
-	 * @param s Դļ
-	 * @param t Ŀļ
-	 * @return trueɹ
+	 * 复制文件的内容到指定文件
+	 * @param s 源文件
+	 * @param t 目标文件
+	 * @return true：成功
 	 */
 	public static boolean copyFile(File s, File t) {
 		FileInputStream fis = null;
@@ -627,7 +627,7 @@ public class LocalFile implements IFile {
 			fos = new FileOutputStream(t);
 			FileChannel in = fis.getChannel();
 			FileChannel out = fos.getChannel();
-			in.transferTo(0, in.size(), out); // ͨҴinͨȡȻдoutͨ
+			in.transferTo(0, in.size(), out); // 连接两个通道，并且从in通道读取，然后写入out通道
 		} catch (IOException e) {
 			throw new RQException(e);
 		} finally {
@@ -652,8 +652,8 @@ public class LocalFile implements IFile {
 	}
 	
 	/**
-	 * ļС
-	 * @param size С
+	 * 设置文件大小
+	 * @param size 大小
 	 */
 	public void setFileSize(long size) {
 		File file = getFile();
@@ -669,8 +669,8 @@ public class LocalFile implements IFile {
 	}
 	
 	/**
-	 * ȡ
-	 * @return Integer û÷򷵻ؿ
+	 * 取分区
+	 * @return Integer 如果没有设置分区则返回空
 	 */
 	public Integer getPartition() {
 		return partition;
@@ -1,12 +1,12 @@
 package com.scudata.dm;
 
 /**
- * 
+ * 锁对象
  * @author WangXiaoJun
  *
  */
 class LockObject implements IResource {
-	private volatile Thread thread; // ǰ߳
+	private volatile Thread thread; // 当前锁定的线程
  
 	public LockObject(Context ctx) {
 	}
@@ -19,10 +19,10 @@ class LockObject implements IResource {
 	}
 	
 	/**
-	 * ˶
-	 * @param ms ȴС0ʾʱ
-	 * @param ctx 
-	 * @return trueɹfalseʧ
+	 * 锁定此对象
+	 * @param ms 等待毫秒数，小于0表示永不超时
+	 * @param ctx 计算上下文
+	 * @return true：成功，false：失败
 	 */
 	public synchronized boolean lock(long ms, Context ctx) {
 		Thread cur = Thread.currentThread();
@@ -37,7 +37,7 @@ class LockObject implements IResource {
 				if (ms >= 0) {
 					wait(ms); 
 				} else {
-					// ̵߳unlockֽlock̵߳waitű
+					// 监视器所有者线程调用unlock后可能又进入了lock后此线程的wait才被唤醒
 					do {
 						wait();
 					} while (thread != null);
@@ -53,9 +53,9 @@ class LockObject implements IResource {
 	}
 	
 	/**
-	 * 
-	 * @param ctx 
-	 * @return trueɹfalseʧ
+	 * 解锁
+	 * @param ctx 计算上下文
+	 * @return true：成功，false：失败
 	 */
 	public synchronized boolean unlock(Context ctx) {
 		if (thread == null) {
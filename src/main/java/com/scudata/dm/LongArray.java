@@ -1,31 +1,31 @@
 package com.scudata.dm;
 
 /**
- * long
+ * long数组
  * @author WangXiaoJun
  *
  */
 public class LongArray {
-	private long []datas; // Ԫֵ
-	private int size; // Ԫ
+	private long []datas; // 元素值数组
+	private int size; // 元素数
 
 	/**
-	 * long
+	 * 构建long数组
 	 */
 	public LongArray() {
 		this(8);
 	}
 
 	/**
-	 * long
-	 * @param capacity ʼ
+	 * 构建long数组
+	 * @param capacity 初始容量
 	 */
 	public LongArray(int capacity) {
 		datas = new long[capacity];
 	}
 
 	/**
-	 * ȡԪ
+	 * 取元素数
 	 * @return
 	 */
 	public int size() {
@@ -33,7 +33,7 @@ public class LongArray {
 	}
 
 	/**
-	 * Ԫֵɵ
+	 * 返回元素值组成的数组
 	 * @return
 	 */
 	public long[] toArray() {
@@ -47,8 +47,8 @@ public class LongArray {
 	}
 
 	/**
-	 * ȡָλõlongֵ
-	 * @param index λã0ʼ
+	 * 取指定位置的long值
+	 * @param index 位置，从0开始计数
 	 * @return long
 	 */
 	public long get(int index) {
@@ -56,7 +56,7 @@ public class LongArray {
 	}
 
 	/**
-	 * һlongֵ
+	 * 添加一个long值到数组中
 	 * @param value
 	 */
 	public void add(long value) {
@@ -65,8 +65,8 @@ public class LongArray {
 	}
 
 	/**
-	 * ȷСָС
-	 * @param mincap 
+	 * 确保容量不小于指定大小
+	 * @param mincap 容量
 	 */
 	public void ensureCapacity(int mincap) {
 		if(mincap > datas.length) {
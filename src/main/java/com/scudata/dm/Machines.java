@@ -13,9 +13,9 @@ import com.scudata.parallel.UnitClient;
 import com.scudata.resources.EngineMessage;
 /**
  * "ip:port"
- * ":port"127.0.0.1
- * ":"Լ
- * ""
+ * ":port"，就是127.0.0.1
+ * ":"，就是自己进程
+ * ""，忽略
  *
  */
 public class Machines implements Externalizable{
@@ -28,13 +28,13 @@ public class Machines implements Externalizable{
 	private String parseHost(String str) {
 		String host=null,defaultHost="127.0.0.1";
 		int index = str.lastIndexOf(':');
-		if (index == -1) {//ûð
+		if (index == -1) {//没有冒号
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("HS" + mm.getMessage("function.invalidParam")+": "+str);
-		}else if( index==0 ) {//ðſͷΪطֻ
+		}else if( index==0 ) {//冒号开头为本地分机
 			if(str.length()>1) {
 				host = defaultHost;
-			}//Ϊðűʾ̣nullhost
+			}//否则为光冒号表示本进程，用null当host
 		}else {
 			host = str.substring(0, index);
 		}
@@ -42,7 +42,7 @@ public class Machines implements Externalizable{
 	}
 	private int parsePort(String str) {
 		int index = str.lastIndexOf(':');
-		if(str.length()==1) {//ðʱ0˿
+		if(str.length()==1) {//光冒号时，返回0端口
 			return 0;
 		}
 		int port = Integer.parseInt(str.substring(index + 1));
@@ -86,7 +86,7 @@ public class Machines implements Externalizable{
 					listH.add( uc.getHost() );
 					listP.add( uc.getPort() );
 				}else{
-					//ʶĶ
+					//不认识的对象
 					return false;
 				}
 			}
@@ -8,23 +8,23 @@ import com.scudata.common.IOUtils;
 import com.scudata.common.RQException;
 
 /**
- * ڴļ
+ * 内存文件
  * @author WangXiaoJun
  *
  */
 public class MemoryFile implements IFile {
-	private final int blockSize = 1024 * 1024 * 64; // С
+	private final int blockSize = 1024 * 1024 * 64; // 块大小
 	
 	private IFile file;
-	private byte [][]blocks; // ¼ֽڹɵĿ
-	private int blockCount; // 
-	private long total; // ֽ
+	private byte [][]blocks; // 记录字节构成的块数组
+	private int blockCount; // 块数
+	private long total; // 总字节数
 	
-	// ڴļ
+	// 内存文件输入流
 	private class MemoryFileInputStream extends InputStream {
-		long pos; // ǰλ
-		int curBlockSeq; // ǰӦĿ
-		int curBlockPos; // һֽbufferе
+		long pos; // 当前光标位置
+		int curBlockSeq; // 当前读入对应的块号
+		int curBlockPos; // 下一字节在buffer中的索引
 		
 		private boolean nextBlock() {
 			curBlockSeq++;
@@ -120,7 +120,7 @@ public class MemoryFile implements IFile {
 	}
 	
 	/**
-	 * ļݹڴļ
+	 * 用文件内容构建内存文件
 	 * @param blocks
 	 */
 	public MemoryFile(byte [][]blocks) {
@@ -132,16 +132,16 @@ public class MemoryFile implements IFile {
 	}
 	
 	/**
-	 * ļ󹹽ڴļ
-	 * @param fo ļ
+	 * 用文件对象构建内存文件
+	 * @param fo 文件对象
 	 */
 	public MemoryFile(FileObject fo) {
 		this(fo.getFile());
 	}
 	
 	/**
-	 * ļڴļ
-	 * @param file ļ
+	 * 用文件构建内存文件
+	 * @param file 文件
 	 */
 	public MemoryFile(IFile file) {
 		this.file = file;
@@ -188,7 +188,7 @@ public class MemoryFile implements IFile {
 	}
 	
 	/**
-	 * ȡ
+	 * 取输入流
 	 * @return InputStream
 	 */
 	public InputStream getInputStream() {
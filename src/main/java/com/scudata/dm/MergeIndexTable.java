@@ -6,14 +6,14 @@ import com.scudata.expression.Expression;
 import com.scudata.util.Variant;
 
 /**
- * 鲢Ҫҵֵ
+ * 用于有序归并的索引，要查找的值是有序递增的
  * @author RunQian
  *
  */
 public class MergeIndexTable extends IndexTable {
-	private Sequence code; // άֶ
-	private Sequence values; // άĹֵֶ
-	private int currentSeq = 1; // ǰţfindʱӵǰſʼ
+	private Sequence code; // 维表，按关联字段有序
+	private Sequence values; // 维表的关联字段值
+	private int currentSeq = 1; // 当前遍历到的序号，find时会从当前序号开始往后找
 	
 	public MergeIndexTable(Sequence code, Expression []exps, Context ctx) {
 		this.code = code;
@@ -53,11 +53,11 @@ public class MergeIndexTable extends IndexTable {
 		for (int i = currentSeq; i <= len; ++i) {
 			int cmp = Variant.compare(values.getMem(i), key);
 			if (cmp == 0) {
-				// ҵȵģcurrentSeqΪǰţ´βҴ⿪ʼ
+				// 找到相等的，设置currentSeq为当前序号，下次查找从这开始往后查找
 				currentSeq = i;
 				return code.getMem(i);
 			} else if (cmp > 0) {
-				// ûҵȵģcurrentSeqΪǰţ´βҴ⿪ʼ
+				// 没有找到相等的，设置currentSeq为当前序号，下次查找从这开始往后查找
 				currentSeq = i;
 				return null;
 			}
@@ -77,11 +77,11 @@ public class MergeIndexTable extends IndexTable {
 		for (int i = currentSeq; i <= len; ++i) {
 			int cmp = Variant.compareArrays((Object [])values.getMem(i), keys);
 			if (cmp == 0) {
-				// ҵȵģcurrentSeqΪǰţ´βҴ⿪ʼ
+				// 找到相等的，设置currentSeq为当前序号，下次查找从这开始往后查找
 				currentSeq = i;
 				return code.getMem(i);
 			} else if (cmp > 0) {
-				// ûҵȵģcurrentSeqΪǰţ´βҴ⿪ʼ
+				// 没有找到相等的，设置currentSeq为当前序号，下次查找从这开始往后查找
 				currentSeq = i;
 				return null;
 			}
@@ -97,11 +97,11 @@ public class MergeIndexTable extends IndexTable {
 		for (int i = currentSeq; i <= len; ++i) {
 			int cmp = Variant.compare(values.getMem(i), key);
 			if (cmp == 0) {
-				// ҵȵģcurrentSeqΪǰţ´βҴ⿪ʼ
+				// 找到相等的，设置currentSeq为当前序号，下次查找从这开始往后查找
 				currentSeq = i;
 				return i;
 			} else if (cmp > 0) {
-				// ûҵȵģcurrentSeqΪǰţ´βҴ⿪ʼ
+				// 没有找到相等的，设置currentSeq为当前序号，下次查找从这开始往后查找
 				currentSeq = i;
 				return 0;
 			}
@@ -121,11 +121,11 @@ public class MergeIndexTable extends IndexTable {
 		for (int i = currentSeq; i <= len; ++i) {
 			int cmp = Variant.compareArrays((Object [])values.getMem(i), keys);
 			if (cmp == 0) {
-				// ҵȵģcurrentSeqΪǰţ´βҴ⿪ʼ
+				// 找到相等的，设置currentSeq为当前序号，下次查找从这开始往后查找
 				currentSeq = i;
 				return i;
 			} else if (cmp > 0) {
-				// ûҵȵģcurrentSeqΪǰţ´βҴ⿪ʼ
+				// 没有找到相等的，设置currentSeq为当前序号，下次查找从这开始往后查找
 				currentSeq = i;
 				return 0;
 			}
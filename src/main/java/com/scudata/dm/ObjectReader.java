@@ -12,25 +12,25 @@ import com.scudata.common.DateCache;
 import com.scudata.common.ObjectCache;
 
 /**
- * ڴObjectӦĶΪObjectWriter
- * ObjectWriterObjectReaderķһһӦģwriteIntreadIntӦwriteInt32readInt32Ӧ
- * ʱһҪúдķӦķдʱwriteInt32ʱreadInt
- * ԼĶ
+ * 用于从输入流读Object，对应的读为ObjectWriter
+ * ObjectWriter和ObjectReader的方法是一一对应的，比如writeInt和readInt对应，writeInt32和readInt32对应。
+ * 读的时候一定要调用和写的方法相对应的方法，不能写的时候用writeInt32而读的时候用readInt。
+ * 此输入流有自己的读缓冲区
  * @author WangXiaoJun
  *
  */
 public class ObjectReader extends InputStream implements ObjectInput {
-	private InputStream in; // 
-	private byte[] buffer; // ÿζֽڻ
-	private int index; // һֽbufferе
-	private int count; // bufferʵֽĿ
-	private long position; // еλ
+	private InputStream in; // 输入流
+	private byte[] buffer; // 每次读入的字节缓存
+	private int index; // 下一字节在buffer中的索引
+	private int count; // 读入buffer的实际字节数目
+	private long position; // 读入光标在流中的位置
 
-	private byte[] readBuffer = new byte[32]; // ʱõʱ
-	private char[] charBuffer = new char[128]; // ַʱõʱ
+	private byte[] readBuffer = new byte[32]; // 读对象时用的临时缓存区
+	private char[] charBuffer = new char[128]; // 读字符串时用的临时缓存区
 
 	
-	// ³Ϊ˳õĶ
+	// 以下常量为了常用的对象复用
 	private static final String []HEXSTRINGS = new String[] {"0", "1", "2", "3", "4", "5", "6",
 		"7", "8", "9", "A", "B", "C", "D", "E", "F"};
 	
@@ -42,17 +42,17 @@ public class ObjectReader extends InputStream implements ObjectInput {
 		new Integer(11), new Integer(12), new Integer(13), new Integer(14), new Integer(15)};
 
 	/**
-	 * 
-	 * @param in 
+	 * 构建读对象
+	 * @param in 输入流
 	 */
 	public ObjectReader(InputStream in) {
 		this(in, Env.FILE_BUFSIZE);
 	}
 
 	/**
-	 * 
-	 * @param in 
-	 * @param bufSize С
+	 * 构建读对象
+	 * @param in 输入流
+	 * @param bufSize 缓冲区大小
 	 */
 	public ObjectReader(InputStream in, int bufSize) {
 		this.in = in;
@@ -75,7 +75,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * صǰĶȡλ
+	 * 返回当前的读取位置
 	 * @return long
 	 */
 	public long position() {
@@ -108,8 +108,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * ָֽ
-	 * @param n ֽ
+	 * 跳过指定的字节
+	 * @param n 字节数
 	 * @throws IOException
 	 */
 	public int skipBytes(int n) throws IOException {
@@ -135,8 +135,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * ָλãֻǰ
-	 * @param pos λ
+	 * 跳到指定的位置，只能往前跳
+	 * @param pos 位置
 	 * @throws IOException
 	 */
 	public void seek(long pos) throws IOException {
@@ -148,7 +148,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 			long dif = position - pos;
 			if (dif <= count) {
 				index = count - (int)dif;
-			} else { // ֻǰseek
+			} else { // 只能往前seek
 				throw new RuntimeException();
 			}
 		} else {
@@ -158,8 +158,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * ָֽ
-	 * @param n ֽ
+	 * 跳过指定的字节
+	 * @param n 字节数
 	 * @throws IOException
 	 */
 	public long skip(long n) throws IOException {
@@ -185,8 +185,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * Ƿֽûж
-	 * @return trueǣfalseѶ
+	 * 是否还有字节没有读完
+	 * @return true：是，false：已读完
 	 * @throws IOException
 	 */
 	public boolean hasNext() throws IOException {
@@ -199,22 +199,22 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * ȡõֽע˷ǷȫõֻֽǷػʣֽѵβ򷵻0
-	 * @return int ֽ
+	 * 取可用的字节数，注意此方法不是返回全部可用的字节数，只是返回缓冲区中剩余的字节数，如果已到输入流结尾则返回0
+	 * @return int 字节数
 	 * @throws IOException
 	 */
 	public int available() throws IOException {
 		if (count > index) {
-			return count - index; // ܼis.available()
+			return count - index; // 不能加is.available()，可能阻塞
 		} else {
-			//return in.available(); //ʱû0
+			//return in.available(); //有时候没结束返回0
 			readBuffer();
 			return count > 0 ? count : 0;
 		}
 	}
 
 	/**
-	 * ر
+	 * 关闭输入流
 	 * @throws IOException
 	 */
 	public void close() throws IOException {
@@ -223,8 +223,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һֵ
-	 * @return boolean ֵ
+	 * 读一个布尔值
+	 * @return boolean 布尔值
 	 * @throws IOException
 	 */
 	public boolean readBoolean() throws IOException {
@@ -236,8 +236,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һֽ
-	 * @return int ֵֽ
+	 * 读一个字节
+	 * @return int 字节值
 	 * @throws IOException
 	 */
 	public int read() throws IOException {
@@ -248,7 +248,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 		return buffer[index++] & 0xff;
 	}
 
-	// һֽڣѽ׳쳣
+	// 读一个字节，如果已结束则抛出异常
 	private int read2() throws IOException {
 		if (index >= count && readBuffer() < 0) {
 			throw new EOFException();
@@ -258,9 +258,9 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * ָֽ
-	 * @param b ֽ飬ڴŶֽ
-	 * @return int ʵʶ붼ֽ
+	 * 读指定数量字节
+	 * @param b 字节数组，用于存放读入的字节
+	 * @return int 实际读入都得字节数
 	 * @throws IOException
 	 */
 	public int read(byte []b) throws IOException {
@@ -268,11 +268,11 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * ָֽ
-	 * @param b ֽ飬ڴŶֽ
-	 * @param off ʼλã
-	 * @param len 
-	 * @return int ʵʶ붼ֽ
+	 * 读指定数量字节
+	 * @param b 字节数组，用于存放读入的字节
+	 * @param off 起始位置，包括
+	 * @param len 长度
+	 * @return int 实际读入都得字节数
 	 * @throws IOException
 	 */
 	public int read(byte []b, int off, int len) throws IOException {
@@ -303,8 +303,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * ָֽڣʣֽڲ׳쳣
-	 * @param b ֽ飬ڴŶֽ
+	 * 读指定数量字节，如果剩余字节不足则抛出异常
+	 * @param b 字节数组，用于存放读入的字节
 	 * @throws IOException
 	 */
 	public void readFully(byte []b) throws IOException {
@@ -314,10 +314,10 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * ָֽڣʣֽڲ׳쳣
-	 * @param b ֽ飬ڴŶֽ
-	 * @param off ʼλã
-	 * @param len 
+	 * 读指定数量字节，如果剩余字节不足则抛出异常
+	 * @param b 字节数组，用于存放读入的字节
+	 * @param off 起始位置，包括
+	 * @param len 长度
 	 * @throws IOException
 	 */
 	public void readFully(byte []b, int off, int len) throws IOException {
@@ -327,8 +327,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һֽڣѽ׳쳣
-	 * @return byte ֵֽ
+	 * 读一个字节，如果已结束则抛出异常
+	 * @return byte 字节值
 	 * @throws IOException
 	 */
 	public byte readByte() throws IOException {
@@ -340,8 +340,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һ޷ֽڣѽ׳쳣
-	 * @return int ֵֽ
+	 * 读一个无符号字节，如果已结束则抛出异常
+	 * @return int 字节值
 	 * @throws IOException
 	 */
 	public int readUnsignedByte() throws IOException {
@@ -353,7 +353,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һѽ׳쳣
+	 * 读一个短整数，如果已结束则抛出异常
 	 * @return short
 	 * @throws IOException
 	 */
@@ -371,7 +371,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һ޷Ŷѽ׳쳣
+	 * 读一个无符号短整数，如果已结束则抛出异常
 	 * @return int
 	 * @throws IOException
 	 */
@@ -389,8 +389,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һcharѽ׳쳣
-	 * @return char ֵֽ
+	 * 读一个char，如果已结束则抛出异常
+	 * @return char 字节值
 	 * @throws IOException
 	 */
 	public char readChar() throws IOException {
@@ -407,7 +407,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һѽ׳쳣
+	 * 读一个浮点数，如果已结束则抛出异常
 	 * @return float
 	 * @throws IOException
 	 */
@@ -416,7 +416,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һ˫ȸѽ׳쳣
+	 * 读一个双精度浮点数，如果已结束则抛出异常
 	 * @return double
 	 * @throws IOException
 	 */
@@ -424,7 +424,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 		int b = read2();
 		if (b == ObjectWriter.FLOAT16) {
 			int n = readUInt16();
-			int scale = n >>> 14; // λСλ
+			int scale = n >>> 14; // 高两位存小数位数
 			n &= 0x3FFF;
 
 			if (scale == 0) {
@@ -438,7 +438,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 			}
 		} else if (b == ObjectWriter.FLOAT32) {
 			int n = readInt32();
-			int scale = n >>> 30; // λСλ
+			int scale = n >>> 30; // 高两位存小数位数
 			n &= 0x3FFFFFFF;
 
 			if (scale == 0) {
@@ -456,14 +456,14 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * ִ֧˷
+	 * 不支持此方法
 	 */
 	public String readLine() throws IOException {
 		throw new IOException("readLine not supported");
 	}
 
 	/**
-	 * һutfдַѽ׳쳣
+	 * 读一个用utf编码写出的字符串，如果已结束则抛出异常
 	 * @return String
 	 * @throws IOException
 	 */
@@ -472,8 +472,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һֽ飬ѽ׳쳣
-	 * @return ֽ
+	 * 读一个字节数组，如果已结束则抛出异常
+	 * @return 字节数组
 	 * @throws IOException
 	 */
 	public byte[] readByteArray() throws IOException {
@@ -488,8 +488,8 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һַ飬ѽ׳쳣
-	 * @return ַ
+	 * 读一个字符串数组，如果已结束则抛出异常
+	 * @return 字符串数组
 	 * @throws IOException
 	 */
 	public String[] readStrings() throws IOException {
@@ -628,7 +628,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һѽ׳쳣
+	 * 读一个长整数，如果已结束则抛出异常
 	 * @return long
 	 * @throws IOException
 	 */
@@ -646,7 +646,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һѽ׳쳣
+	 * 读一个整数，如果已结束则抛出异常
 	 * @return int
 	 * @throws IOException
 	 */
@@ -701,7 +701,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һ4ֽѽ׳쳣
+	 * 读一个4字节整数，如果已结束则抛出异常
 	 * @return int
 	 * @throws IOException
 	 */
@@ -736,7 +736,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һ5ֽڳѽ׳쳣
+	 * 读一个5字节长整数，如果已结束则抛出异常
 	 * @return long
 	 * @throws IOException
 	 */
@@ -762,7 +762,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 	
 	/**
-	 * һ8ֽڳѽ׳쳣
+	 * 读一个8字节长整数，如果已结束则抛出异常
 	 * @return long
 	 * @throws IOException
 	 */
@@ -971,7 +971,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һ
+	 * 读一个对象
 	 * @return Object
 	 * @throws IOException
 	 */
@@ -1013,7 +1013,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	}
 
 	/**
-	 * һ
+	 * 跳过一个对象
 	 * @throws IOException
 	 */
 	public void skipObject() throws IOException {
@@ -1098,7 +1098,7 @@ public class ObjectReader extends InputStream implements ObjectInput {
 	private void skipTable() throws IOException {
 		int fcount = readInt();
 		for (int i = 0; i < fcount; ++i) {
-			readString(); // ֶ
+			readString(); // 跳过字段名
 		}
 
 		int len = readInt();
@@ -10,15 +10,15 @@ import com.scudata.array.IArray;
 import com.scudata.common.RQException;
 
 /**
- * д󣬶ӦĶΪObjectReader
- * ObjectWriterObjectReaderķһһӦģwriteIntreadIntӦwriteInt32readInt32Ӧ
- * ʱһҪúдķӦķдʱwriteInt32ʱreadInt
- * Լд
+ * 用于向输出流写出对象，对应的读为ObjectReader
+ * ObjectWriter和ObjectReader的方法是一一对应的，比如writeInt和readInt对应，writeInt32和readInt32对应。
+ * 读的时候一定要调用和写的方法相对应的方法，不能写的时候用writeInt32而读的时候用readInt。
+ * 此输出流有自己的写缓冲区
  * @author WangXiaoJun
  *
  */
 public class ObjectWriter extends OutputStream implements ObjectOutput {
-	// ³Ϊݵͱ
+	// 以下常量为数据的类型编码
 	static final int MARK0 = 0x00;
 	static final int NULL = 0x00;
 	static final int TRUE = 0x01;
@@ -28,10 +28,10 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	static final int DECIMAL0 = 0x05;
 
 	static final int MARK1 = 0x10;
-	static final int INT16 = 0x10; // 16bit޷
+	static final int INT16 = 0x10; // 16bit无符号正数
 	static final int INT32 = 0x11; // Integer
-	static final int LONG16 = 0x12; // 16bit޷
-	static final int LONG32 = 0x13; // 32bit޷
+	static final int LONG16 = 0x12; // 16bit无符号正数
+	static final int LONG32 = 0x13; // 32bit无符号正数
 	static final int LONG64 = 0x14; // Long
 	static final int FLOAT16 = 0x15;
 	static final int FLOAT32 = 0x16;
@@ -43,35 +43,35 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	static final int SEQUENCE = 0x22;
 	static final int TABLE = 0x23;
 	static final int BLOB = 0x24;
-	static final int AVG = 0x25; // ƽֵм
+	static final int AVG = 0x25; // 分组运算中求平均值的中间结果
 	static final int RECORD = 0x27;
 
 	static final int MARK3 = 0x30;
-	static final int DATE16 = 0x30; // 2000֮
-	static final int DATE32 = 0x31; // 2000֮ǰ
+	static final int DATE16 = 0x30; // 2000年之后的日期
+	static final int DATE32 = 0x31; // 2000年之前的日期
 	static final int TIME16 = 0x32;
 	static final int TIME17 = 0x33;
 	static final int DATETIME32 = 0x34;
 	static final int DATETIME33 = 0x35;
 	static final int DATETIME64 = 0x36;
 	static final int TIME32 = 0x37;
-	static final int DATE24 = 0x38; // 2000֮
-	static final int DATE64 = 0x39; // ʾ˶64λ
+	static final int DATE24 = 0x38; // 2000年之后的日期
+	static final int DATE64 = 0x39; // 超界表示不了都得日期用64位保存
 	
-	static final int SERIALBYTES = 0x40; // ź
+	static final int SERIALBYTES = 0x40; // 排号
 	static final int REPEAT3 = 0x70;
 	static final int REPEAT11 = 0x78;
 	
-	static final int INT4 = 0x80; // 4bit޷
-	static final int INT12 = 0x90; // 12bit޷
-	static final int HEX4 = 0xA0; // Ϊ1ʮִĸдһڱ־
-	static final int DIGIT4 = 0xB0; // Сڵ30ִ
+	static final int INT4 = 0x80; // 4bit无符号正数
+	static final int INT12 = 0x90; // 12bit无符号正数
+	static final int HEX4 = 0xA0; // 长度为1的十六进制数码字串，字母大写，一般用于标志
+	static final int DIGIT4 = 0xB0; // 长度小于等于30的数字串
 	static final int STRING4 = 0xC0;
 	static final int STRING5 = 0xD0;
 	
 
 
-	// 鿪ʼ־160xFF
+	// 块开始标志，连续16个0xFF
 	public static final byte []BLOCKMARKS = {(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF,
 		(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF,
 		(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF};
@@ -79,7 +79,7 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	private static final double MINFLOAT = 0.000001;
 	private static final int MAX_DIGIT_LEN = 30;
 
-	static final long BASEDATE; // 1992֮ǰеڲܱ86400000
+	static final long BASEDATE; // 1992年之前有的日期不能被86400000整除
 	static final long BASETIME;
 	static {
 		java.util.Calendar calendar = java.util.Calendar.getInstance();
@@ -91,13 +91,13 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 		BASEDATE = calendar.getTimeInMillis();
 	}
 
-	protected OutputStream out; // 
-	protected byte []buf; // д
-	protected int count = 0; // дǰֽ
+	protected OutputStream out; // 输出流
+	protected byte []buf; // 写缓冲区
+	protected int count = 0; // 写缓冲区当前字节数
 
 	/**
-	 * д
-	 * @param out 
+	 * 构建写对象
+	 * @param out 输出流
 	 */
 	public ObjectWriter(OutputStream out) {
 		this.out = out;
@@ -105,16 +105,16 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * д
-	 * @param out 
-	 * @param bufSize С
+	 * 构建写对象
+	 * @param out 输出流
+	 * @param bufSize 缓冲区大小
 	 */
 	public ObjectWriter(OutputStream out, int bufSize) {
 		this.out = out;
 		buf = new byte[bufSize];
 	}
 	
-	// ѻд
+	// 把缓存写到输出流
     private void flushBuffer() throws IOException {
         if (count > 0) {
 		    out.write(buf, 0, count);
@@ -123,7 +123,7 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
     }
 
     /**
-     * ǿд浽ô洢
+     * 强制写出缓存到永久存储
  	 * @throws IOException
     */
 	public void flush() throws IOException {
@@ -132,7 +132,7 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * رд
+	 * 关闭写
 	 * @throws IOException
 	 */
 	public void close() throws IOException {
@@ -141,8 +141,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһֽ
-	 * @param b ֵֽ
+	 * 写出一个字节
+	 * @param b 字节值
 	 * @throws IOException
 	 */
 	public void write(int b) throws IOException {
@@ -154,8 +154,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһֽ
-	 * @param b ֽ
+	 * 写出一个字节数组
+	 * @param b 字节数组
 	 * @throws IOException
 	 */
 	public void write(byte b[]) throws IOException {
@@ -163,10 +163,10 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһֽ
-	 * @param b ֽ
-	 * @param off ʼλ
-	 * @param len 
+	 * 写出一个字节数组
+	 * @param b 字节数组
+	 * @param off 起始位置
+	 * @param len 长度
 	 * @throws IOException
 	 */
 	public void write(byte b[], int off, int len) throws IOException {
@@ -184,8 +184,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһֽ
-	 * @param v ֵֽ
+	 * 写出一个字节
+	 * @param v 字节值
 	 * @throws IOException
 	 */
 	public void writeByte(int v) throws IOException {
@@ -197,8 +197,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһֵ
-	 * @param v ֵ
+	 * 写出一个布尔值
+	 * @param v 布尔值
 	 * @throws IOException
 	 */
 	public void writeBoolean(boolean v) throws IOException {
@@ -210,8 +210,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһ
-	 * @param v 
+	 * 写出一个短整数
+	 * @param v 短整数
 	 * @throws IOException
 	 */
 	public void writeShort(int v) throws IOException {
@@ -220,8 +220,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһַ
-	 * @param v ַ
+	 * 写出一个字符
+	 * @param v 字符
 	 * @throws IOException
 	 */
 	public void writeChar(int v) throws IOException {
@@ -230,8 +230,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһֵ
-	 * @param v ֵ
+	 * 写出一个布尔值
+	 * @param v 布尔值
 	 * @throws IOException
 	 */
 	public void writeFloat(float v) throws IOException {
@@ -239,8 +239,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * ַÿַbyteֵд
-	 * @param s ַ
+	 * 把字符串的每个字符当byte值写出
+	 * @param s 字符串
 	 * @throws IOException
 	 */
 	public void writeBytes(String s) throws IOException {
@@ -250,8 +250,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * ַÿַcharֵд
-	 * @param s ַ
+	 * 把字符串的每个字符当char值写出
+	 * @param s 字符串
 	 * @throws IOException
 	 */
 	public void writeChars(String s) throws IOException {
@@ -261,8 +261,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дַutf
-	 * @param s ַ
+	 * 写出字符串的utf编码
+	 * @param s 字符串
 	 * @throws IOException
 	 */
 	public void writeUTF(String str) throws IOException {
@@ -270,8 +270,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дֽ
-	 * @param v ֽ
+	 * 写出字节数组
+	 * @param v 字节数组
 	 * @throws IOException
 	 */
 	public void writeBytes(byte[] v) throws IOException {
@@ -285,8 +285,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дַ
-	 * @param strs ַ
+	 * 写出字符串数组
+	 * @param strs 字符串数组
 	 * @throws IOException
 	 */
 	public void writeStrings(String[] strs) throws IOException {
@@ -300,7 +300,7 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 		}
 	}
 
-	// Сڵ30ִ
+	// 长度小于等于30的数字串
 	private boolean isDigit(char []charr, int len) {
 		if (len > MAX_DIGIT_LEN) return false;
 
@@ -311,7 +311,7 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 		return true;
 	}
 
-	// СڵMAX_DIGIT_LENִ
+	// 长度小于等于MAX_DIGIT_LEN的数字串
 	private void writeDigit(char []charr, int len) throws IOException {
 		byte []writeBuffer = this.buf;
 		if (writeBuffer.length - count < MAX_DIGIT_LEN) {
@@ -454,8 +454,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһdouble
-	 * @param d doubleֵ
+	 * 写出一个double
+	 * @param d double值
 	 * @throws IOException
 	 */
 	public void writeDouble(double d) throws IOException {
@@ -491,8 +491,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһ
-	 * @param v 
+	 * 写出一个长整数
+	 * @param v 长整数
 	 * @throws IOException
 	 */
 	public void writeLong(long v) throws IOException {
@@ -526,8 +526,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 	
 	/**
-	 * дһ4ֽ
-	 * @param n 
+	 * 写出一个4字节整数
+	 * @param n 整数
 	 * @throws IOException
 	 */
 	public void writeInt32(int n) throws IOException {
@@ -538,8 +538,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһ5ֽڳ
-	 * @param v 
+	 * 写出一个5字节长整数
+	 * @param v 长整数
 	 * @throws IOException
 	 */
 	public void writeLong40(long v) throws IOException {
@@ -558,8 +558,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 	
 	/**
-	 * дһ8ֽڳ
-	 * @param v 
+	 * 写出一个8字节长整数
+	 * @param v 长整数
 	 * @throws IOException
 	 */
 	public void writeLong64(long v) throws IOException {
@@ -581,8 +581,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһ
-	 * @param n 
+	 * 写出一个整数
+	 * @param n 整数
 	 * @throws IOException
 	 */
 	public void writeInt(int n) throws IOException {
@@ -645,7 +645,7 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	private void writeDate(java.sql.Date date) throws IOException {
 		long v = date.getTime();
 		if (v >= BASEDATE) {
-			// ȷ
+			// 精确到天
 			int d = (int)((v - BASEDATE) / 86400000);
 			if (d > 0xFFFF) {
 				if (d > 0xFFFFFF) {
@@ -664,7 +664,7 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 				write(d & 0xFF);
 			}
 		} else {
-			// ȷ
+			// 精确到秒
 			long d = (BASEDATE - v) / 1000;
 			if (d > 0xFFFFFFFFL) {
 				//throw new RQException("Invalid date: " + date);
@@ -748,8 +748,8 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 	}
 
 	/**
-	 * дһ
-	 * @param obj 
+	 * 写出一个对象
+	 * @param obj 对象
 	 * @throws IOException
 	 */
 	public void writeObject(Object obj) throws IOException {
@@ -796,7 +796,7 @@ public class ObjectWriter extends OutputStream implements ObjectOutput {
 			if (len < 16) {
 				write(SERIALBYTES | len);
 			} else {
-				// 0ʾ16
+				// 0表示长度16
 				write(SERIALBYTES);
 			}
 			
@@ -10,40 +10,40 @@ import com.scudata.server.unit.UnitServer;
 import com.scudata.thread.ThreadPool;
 
 /**
- * ʵֲúcallx(dfx,;hs;rdfx)Ĳ
- * ֻhsҵִнűdfx̳ռ䣻ÿҵķֵɵС
- * ҵ(end msg)·䣨ܿѷֻҲ÷ֻʧܣҵ䵽÷ֻʱΪ
- * ȱʡη䣬iҵ䵽hs.m@r(i)
- * rdfxĽűreduceʡԡֱǵǰۻֵ͵ǰֵrdfxֵΪµۻֵʼۻֵΪnull
- * rdfxʱֵÿֻķֵɵУhsĴ
+ * 实现并发调用函数callx(dfx,…;hs;rdfx)的并发调用类
+ * 向分机序列hs分配作业执行脚本dfx，继承任务空间；返回每个作业的返回值构成的序列。
+ * 作业非正常结束(end msg)则将重新分配（避开已分配过分机），如果找不到可用分机则任务失败，作业分配到不可用分机时被认为非正常结束
+ * 缺省将依次分配，即第i个作业分配到hs.m@r(i)上
+ * rdfx是两个参数的脚本，用于reduce动作，可省略。其参数分别是当前累积值和当前返回值，rdfx返回值将作为新的累积值，初始累积值为null
+ * 有rdfx时，返回值将是每个分机的返回值构成的序列，按hs的次序。
  * @author Joancy
  *
  */
 public class ParallelCaller extends ParallelProcess {
-	// ΪӺnodeһͻռӣ㷨ֱ
-	// 㷨ֱʹnodes ucListеĶзֻ㷨nodes˷ѳʼ
+	// 改为长连接后，node一旦产生就会首先占用连接；等量算法会直接用它；
+	// 但少量算法，不直接使用nodes，会争用 ucList中的队列分机，少量算法的nodes会浪费初始连接
 	private UnitClient[] nodes = null;
 
 	private Context ctx;
 	private int activeHostCount = 0;
 
-	private final byte TYPE_DEFAULT = 0;//ȱʡ˳η䣬ֻ
-	private final byte TYPE_ONE = 1;//һҵȫ䣬ķغжҵ
-	private final byte TYPE_RANDOM = 2;//
-//	private final byte TYPE_MUCH = 3;//ԤȻҵ
+	private final byte TYPE_DEFAULT = 0;//缺省顺次分配，多余的轮回
+	private final byte TYPE_ONE = 1;//一个作业全部分配，最快的返回后，中断其他作业
+	private final byte TYPE_RANDOM = 2;//随机分配
+//	private final byte TYPE_MUCH = 3;//预分配然后抢作业
 
 	private String opt = null;
 
 	/**
-	 * һö
-	 * @param dfx 
-	 * @param hosts ֻ
-	 * @param ports ˿
+	 * 构造一个并发调用对象
+	 * @param dfx 计算对象
+	 * @param hosts 分机
+	 * @param ports 端口
 	 */
 	public ParallelCaller(Object dfx, String[] hosts, int[] ports) {
 		super(dfx);
 		if (hosts == null)
-			return;// ִ߳ʱ
+			return;// 本地线程执行时
 
 		nodes = new UnitClient[hosts.length];
 		for (int i = 0; i < hosts.length; i++) {
@@ -58,46 +58,46 @@ public class ParallelCaller extends ParallelProcess {
 	}
 
 	/**
-	 * üѡ
-	 * @param ops ѡ
+	 * 设置计算选项
+	 * @param ops 选项
 	 */
 	public void setOptions(String ops) {
 		this.opt = ops;
 	}
 
 	/**
-	 * 
-	 * @return ѡtrue
+	 * 随机分配型
+	 * @return 随机分配选项返回true
 	 */
 	public boolean isAOption() {
 		return opt != null && opt.indexOf('a') != -1;
 	}
 
 	/**
-	 * ֻһҵҲп÷ֻκһɣж
-	 * @return һҵѡtrue
+	 * 只有一个作业也分配给所有可用分机，任何一个就算完成，中断其它任务
+	 * @return 一个作业选项返回true
 	 */
 	public boolean is1Option() {
 		return opt != null && opt.indexOf('1') != -1;
 	}
 
 	/**
-	 * ȱʡ˳η
-	 * @return ȱʡ˳η䷵true
+	 * 缺省顺次分配
+	 * @return 缺省顺次分配返回true
 	 */
 	public boolean isDefaultOption() {
 		return opt == null;
 	}
 	/**
-	 * ü㻷Ķ
-	 * @param ctx 
+	 * 设置计算环境的上下文对象
+	 * @param ctx 上下文
 	 */
 	public void setContext(Context ctx) {
 		this.ctx = ctx;
 		ctx.addResource(this);
 	}
 
-	// ÷ҷֻ
+	// 该方法随机打乱分机队列
 	private void randomUCList() {
 		Sequence sortSeq = new Sequence();
 		while(!ucList.isEmpty()){
@@ -121,12 +121,12 @@ public class ParallelCaller extends ParallelProcess {
 	}
 
 	/**
-	 * ִҵؼ
-	 * @return 
+	 * 执行作业，返回计算结果
+	 * @return 计算结果
 	 */
 	public Object execute() {
 		if (nodes == null) {
-			//ִ߳
+			//本机多线程执行
 			return super.execute();
 		}
 		try {
@@ -149,18 +149,18 @@ public class ParallelCaller extends ParallelProcess {
 	}
 	
 	/**
-	 * ֻһҵʱʹ1ѡ䵽зֻȡĽ󷵻
-	 * @return 
+	 * 只有一个作业时，使用1选项，分配到所有分机，取最快的结果后返回
+	 * @return 计算结果
 	 */
 	public Object executeOne() {
-		Logger.debug("1ҵʱָзֻȡĽ");
+		Logger.debug("1个作业时，分给所有分机，取最快的结果");
 		ThreadPool pool = null;
 		try {
 			List<ProcessCaller> pCallers = new ArrayList<ProcessCaller>();
 			ucList = new LinkedList<UnitClient>();
 
 			int size = nodes.length;
-			// Ҫݴҳķֻݴ
+			// 需要容错，找出活动的分机，生成容错队列
 			for (int i = 0; i < size; i++) {
 				UnitClient uc = nodes[i];
 				if (!uc.isConnected()) {
@@ -173,7 +173,7 @@ public class ParallelCaller extends ParallelProcess {
 			Sequence argPos = new Sequence();
 			argPos.add(1);
 			List<List> args = reserveResult(argPos);
-//			ҵָеķֻ
+//			将作业分给所有的分机
 			for (int i = 1; i <= size; i++) {
 				ProcessCaller pcaller = new ProcessCaller(args);
 				pcaller.setPositions(argPos);
@@ -185,7 +185,7 @@ public class ParallelCaller extends ParallelProcess {
 			for (ProcessCaller pc : pCallers) {
 				callers.add(pc);
 			}
-			// ĹأֱǷֻĿ
+			// 主机的工作池，直接是分机的数目
 			int poolSize = ucList.size();
 			pool = ThreadPool.newSpecifiedInstance(poolSize);
 			for (int i = 0; i < size; i++) {
@@ -204,7 +204,7 @@ public class ParallelCaller extends ParallelProcess {
 			interruptAll(null, x);
 
 			if(x.getMessage().equals(ParallelProcess.ONE_OPTION)){
-//				1ѡ׳ONE_OPTION쳣ϱҵȻֱӷؽ
+//				1选项计算结束后，抛出ONE_OPTION异常，打断别的作业，然后直接返回结果。
 				return result;
 			}
 			throw new RuntimeException(x);
@@ -216,8 +216,8 @@ public class ParallelCaller extends ParallelProcess {
 	}
 
 	/**
-	 * ȱʡ˳η
-	 * @return 
+	 * 缺省顺次分配
+	 * @return 计算结果
 	 */
 	public Object execute(byte calcType) {
 		String msg;
@@ -235,7 +235,7 @@ public class ParallelCaller extends ParallelProcess {
 			int size = nodes.length;
 			int maxTaskNum = 0;
 			HashMap<String, Integer> ucTaskMap = new HashMap<String, Integer>();
-			// Ҫݴҳķֻݴ
+			// 需要容错，找出活动的分机，生成容错队列
 			for (int i = 0; i < size; i++) {
 				UnitClient uc = nodes[i];
 				if (!uc.isConnected()) {
@@ -250,20 +250,20 @@ public class ParallelCaller extends ParallelProcess {
 				activeHostCount++;
 			}
 
-			// ݷֻҵֻҵ
+			// 根据分机的最大作业数，补齐分机的作业队列
 			size = callers.size();
 			for (int i = 1; i <= maxTaskNum; i++) {
 				for (int n = 0; n < activeHostCount; n++) {
 					UnitClient tmp = ucList.get(n);
 					Integer tmpMax = ucTaskMap.get(tmp.toString());
 					if (i < tmpMax) {
-						// ķֻȱʡ¡
+						// 补齐的分机，缺省克隆
 						appendClient(tmp);
 					}
 				}
 			}
 			
-			// Ϊ˷ֹҵȫڵһ̨ʱбûȫճ˶Ա֤ĸԵڷֻ
+			// 为了防止所有作业全部堆在第一台机器时，结果列表没法全部空出，做此动作以保证结果的个数绝对等于分机个数
 			if (reduce != null) {
 				int maxIndex = nodes.length;
 				result.set(maxIndex, null);
@@ -274,10 +274,10 @@ public class ParallelCaller extends ParallelProcess {
 				argPos.add(i);
 				List<List> args;
 				if (reduce != null) {
-//					ǰûзֻ1ŷֻռطֻռλ
+//					当前还没有分配分机，先用1号分机占返回分机占位。
 					args = reserveResult(argPos,1);
 				} else {
-//					Ҫreduceʱؽռλ
+//					不需要reduce时，返回结果跟参数相等占位
 					args = reserveResult(argPos);
 				}
 				
@@ -285,7 +285,7 @@ public class ParallelCaller extends ParallelProcess {
 				if (reduce == null) {
 					pcaller.setPositions(argPos);
 				}
-				// ݴ
+				// 允许容错
 				pcaller.setDispatchable(true);
 				pCallers.add(pcaller);
 			}
@@ -299,7 +299,7 @@ public class ParallelCaller extends ParallelProcess {
 				randomUCList();
 			}
 			
-			// ĹأҵֻҵȡСķ
+			// 主机的工作池，得是作业数跟分机的最大作业总数，取小的分配
 			int poolSize = Math.min(size, ucList.size());
 			pool = ThreadPool.newSpecifiedInstance(poolSize);
 			for (int i = 0; i < size; i++) {
@@ -314,7 +314,7 @@ public class ParallelCaller extends ParallelProcess {
 			joinCallers();
 
 			if (reduce != null) {
-//				reduceʱӸֻreduceĽȡ
+//				有reduce时，最后从各分机将reduce的结果取回
 				for(int i=0;i<nodes.length;i++){
 					UnitClient uc = nodes[i];
 					if(!uc.isAlive()){
@@ -351,7 +351,7 @@ public class ParallelCaller extends ParallelProcess {
 
 
 	/*
-	 * ˳Ŵ1ʼķֻ
+	 * 返回顺序号从1开始的分机序号
 	 * */
 	private int indexOfUC(UnitClient uc) {
 		for (int i = 0; i < nodes.length; i++) {
@@ -422,7 +422,7 @@ public class ParallelCaller extends ParallelProcess {
 		return args;
 	}
 	
-//ֻҵһҵжreduce
+//往分机分配的作业，一次作业可以有多个参数，可以reduce
 	class ProcessCaller extends Caller implements IResource {
 		private Object reduce = null;
 		private CellLocation accumulateLocation = null;
@@ -445,7 +445,7 @@ public class ParallelCaller extends ParallelProcess {
 		public void setUnitClient(UnitClient uc) throws Exception {
 			this.uc = uc;
 			if (canRunOnLocal()) {
-				// ԱִʱҪӷֻȡţҲֻĳ
+				// 如果可以本地执行时，不需要从分机获取任务号，也不建立跟分机的常连接
 				taskId = UnitServer.nextId();
 				return;
 			}
@@ -491,9 +491,9 @@ public class ParallelCaller extends ParallelProcess {
 				if (rVal instanceof Sequence) {
 					val = (Sequence) rVal;
 				} else {
-					// Сhost.lengthʱҲǲöڴʱÿֻ̨һҵ
-					// ԷֵSequenceʱargPositionsֻΪһԱУ˴resultҲתΪ
-					// ֻһԱС
+					// 当参数小于host.length时，也是采用多个机器里面找最大算力机器，但由于此时每台分机最多一个作业，
+					// 所以返回值不是Sequence，此时的argPositions只能为一个成员的序列，此处将result也转换为
+					// 只有一个成员的序列。
 					val = new Sequence();
 					val.add(rVal);
 				}
@@ -504,7 +504,7 @@ public class ParallelCaller extends ParallelProcess {
 					if (i <= val.length()) {
 						tmp = val.get(i);
 					} else {
-						Logger.severe(mm.getMessage("ParallelCaller.emptysub"));//"ӳ򷵻صֵΪգ");
+						Logger.severe(mm.getMessage("ParallelCaller.emptysub"));//"子程序返回的值为空！");
 					}
 					setResult(index, tmp);
 				}
@@ -519,7 +519,7 @@ public class ParallelCaller extends ParallelProcess {
 			ctx.removeResource(this);
 		}
 
-		// ķֻ·
+		// 出过错的分机，不能再重新分配
 		private transient HashSet<UnitClient> errorNodes = new HashSet<UnitClient>();
 
 		public void run() {
@@ -548,9 +548,9 @@ public class ParallelCaller extends ParallelProcess {
 						DecimalFormat df = new DecimalFormat("###,###");
 						long lastTime = l2 - l1;
 						Logger.debug(mm.getMessage("Task.taskEnd", this,
-								df.format(lastTime)));// this+" ʼ㡣");
+								df.format(lastTime)));// this+" 开始计算。");
 						break;
-					} catch (RetryException re) { // Ҫ·ֻ쳣ʱ
+					} catch (RetryException re) { // 需要重新分配分机异常时
 						releaseClient(uc);
 						if (!errorNodes.contains(uc)) {
 							errorNodes.add(uc.clone());
@@ -577,9 +577,9 @@ public class ParallelCaller extends ParallelProcess {
 	}
 
 	/**
-	 * ȡһִеķֻ,ݴĳִежϻ߷ֻȣ ·ֻ
+	 * 获取一个可以执行的分机,用于容错某个执行中的任务因网络中断或者分机死机等， 重新分配分机
 	 * 
-	 * @return UnitClient ֻͻ
+	 * @return UnitClient 分机客户端
 	 */
 	public UnitClient getDispatchNode(HashSet<UnitClient> errorNodes,
 			String argString, String cause) throws Exception {
@@ -595,8 +595,8 @@ public class ParallelCaller extends ParallelProcess {
 		return uc;
 	}
 
-	// ÷̶ֻ˿ںȽϣͬһֻӽ̣ͬġ
-	// errorNodes.containsȽhashKeyὫӽ̶˿Ҳȥ
+	// 该方法只根据主进程端口号来比较，所以同一个分机的子进程，是相同的。
+	// errorNodes.contains会比较hashKey，会将子进程端口也算进去
 	private boolean contains(HashSet<UnitClient> errorNodes, UnitClient uc) {
 		Iterator<UnitClient> nodes = errorNodes.iterator();
 		while (nodes.hasNext()) {
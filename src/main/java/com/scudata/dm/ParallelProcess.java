@@ -16,21 +16,21 @@ import com.scudata.thread.ThreadPool;
 import com.scudata.util.CellSetUtil;
 
 /**
- * 
- * ӦcallxHΣڱϣģִ߳
- * ֻӵpCallerҲǸִУpCallerһδһ߶
+ * 并发进程
+ * 对应于callx不带H的情形，在本机进程上，模拟线程执行任务
+ * 分机接到的pCaller也是该类执行，pCaller可以一次处理一个或者多个参数
  * @author Joancy
  *
  */
 public class ParallelProcess implements IResource{
-	public static String ONE_OPTION = "1ѡɡ";
+	public static String ONE_OPTION = "1选项计算已完成。";
 	
-	Object dfx;// dfx1dfxļ֣2һδ룻3һPgmCellSet
-	// host ʡԣʡʱӱִ߳
+	Object dfx;// dfx可以是1：dfx文件名字；2：一段代码；3：一个PgmCellSet对象
+	// host可以 省略，省略时，从本机多线程执行
 	String spaceId = null;
-	Object reduce=null;// reduce һļһPgmCellSet
-	CellLocation accumulateLocation=null;//λΪnullʱ ʹõ1ۼֵ
-	CellLocation currentLocation=null;// λΪnullʱ ʹõ2ǰֵ
+	Object reduce=null;// reduce 可以是一个串文件名，或者一个PgmCellSet
+	CellLocation accumulateLocation=null;//如果参数位置为null时， 则使用第1个参数当累计值
+	CellLocation currentLocation=null;// 如果参数位置为null时， 则使用第2个参数当当前值
 
 	
 	ArrayList<Caller> callers = new ArrayList<Caller>();
@@ -41,24 +41,24 @@ public class ParallelProcess implements IResource{
 
 	HostManager hostManager = HostManager.instance();
 	
-//	ݴ㷨ʱöлucʺҵʼӣõʱŻ
-//	uc һʺҵ3һʺҵ4гΪ7ķֻ
+//	容错算法时，该队列会产生uc的适合作业数个副本，但不会初始就连接，用到它时才会真正连接
+//	比如两个uc， 一个适合作业3，一个适合作业4，则会产生队列长度为7的分机副本
 	LinkedList<UnitClient> ucList = null;
 	
 	transient volatile boolean isCanceled = false;
 	String TERMINATE = "Terminated by user.";
 	
-	//̵Id
+	//主进程的任务Id
 	private int processTaskId = 0;
 	static MessageManager mm = ParallelMessage.get();
 	static Map<String,Object> reduceResults = Collections.synchronizedMap(new HashMap<String,Object>());
 	
 	/**
-	 * ָĹ캯
-	 * @param dfx Ķ  dfx
-	 * 1dfxļ֣
-	 * 2һSPL룻
-	 * 3һPgmCellSet
+	 * 指定计算对象的构造函数
+	 * @param dfx 被计算的对象，  dfx可以是
+	 * 1：dfx文件名字；
+	 * 2：一段SPL代码；
+	 * 3：一个PgmCellSet对象
 	 */
 	public ParallelProcess(Object dfx) {
 		if (dfx instanceof String || dfx instanceof PgmCellSet) {
@@ -71,15 +71,15 @@ public class ParallelProcess implements IResource{
 		TERMINATE = mm.getMessage("ParallelProcess.terminate");
 	}
 	/**
-	 * õǰ̵
-	 * @param pTaskId 
+	 * 设置当前进程的任务号
+	 * @param pTaskId 任务号
 	 */
 	public void setProcessTaskId(int pTaskId){
 		this.processTaskId = pTaskId;
 	}
 	
 	/**
-	 * ʵtoStringʾǰ̵Ĳ
+	 * 实现toString方法，方便显示当前进程的参数内容
 	 */
 	public String toString() {
 		StringBuffer sb = new StringBuffer();
@@ -132,9 +132,9 @@ public class ParallelProcess implements IResource{
 	}
 	
 	/**
-	 * бĶתΪɶ
-	 * @param argList б
-	 * @return תĴ
+	 * 将参数列表的多个参数转化为可读串
+	 * @param argList 参数列表
+	 * @return 转化的串
 	 */
 	public static String args2String(List argList) {
 		StringBuffer sb = new StringBuffer();
@@ -153,16 +153,16 @@ public class ParallelProcess implements IResource{
 	}
 
 	/**
-	 * ռ
-	 * @param id ռ
+	 * 设置任务空间号
+	 * @param id 任务空间
 	 */
 	public void setJobSpaceId(String id) {
 		this.spaceId = id;
 	}
 	
 	/**
-	 * ִreduceʽ
-	 * @param reduce reduceʽreduce
+	 * 设置任务执行完的reduce表达式
+	 * @param reduce reduce表达式或者reduce网格对象
 	 */
 	public void setReduce(Object reduce){
 		if(reduce==null){
@@ -180,10 +180,10 @@ public class ParallelProcess implements IResource{
 	}
 	
 	/**
-	 * reduce
-	 * @param reduce reduce
-	 * @param accumulateLocation ۼֵλ
-	 * @param currentLocation    ǰֵλ
+	 * 设置网格reduce对象
+	 * @param reduce 网格计算reduce对象
+	 * @param accumulateLocation 累计值位置
+	 * @param currentLocation    当前值位置
 	 */
 	public void setReduce(Object reduce,CellLocation accumulateLocation, CellLocation currentLocation){
 		setReduce(reduce);
@@ -192,10 +192,10 @@ public class ParallelProcess implements IResource{
 	}
 
 	/**
-	 * жϵǰdfxargһļһ
+	 * 判断当前的dfxarg是一个文件名还是一串代码
 	 * 
-	 * @param dfxarg dfx
-	 * @return һνűtrue򷵻false
+	 * @param dfxarg dfx对象
+	 * @return 如果是一段脚本，返回true，否则返回false
 	 */
 	public static boolean isScript(Object dfxarg) {
 		if (!(dfxarg instanceof String))
@@ -203,20 +203,20 @@ public class ParallelProcess implements IResource{
 		String dfx = (String) dfxarg;
 		boolean b = dfx.indexOf('\t') > 0 || dfx.indexOf('\n') > 0;
 		if (b)
-			return true;// д϶ǽű
-		b = dfx.toLowerCase().startsWith("return ");// ֻһдʱд˷صҲǽű
+			return true;// 多行代码肯定是脚本
+		b = dfx.toLowerCase().startsWith("return ");// 只有一行代码时，写了返回的也是脚本
 		if (b)
 			return true;
 		String lowDfx = dfx.toLowerCase();
 		b = lowDfx.endsWith(".dfx") || lowDfx.endsWith(".splx");
-		return !b;//  123 ű
+		return !b;// 形如 123 串当脚本处理
 	}
 
 	/**
-	 * ȡdfxдʾڴʾߵϢ
-	 * dfxһʱʾϢֻʾͷʮĸ
-	 * @param dfx 
-	 * @return дʾ
+	 * 获取dfx对象的缩写表示，用于打出提示或者调试信息
+	 * 当dfx是一串代码时，提示信息只显示头十个字母长度
+	 * @param dfx 计算对象
+	 * @return 缩写表示或对象描述串
 	 */
 	public static String dfxDelegate(Object dfx) {
 		boolean isScript = isScript(dfx);
@@ -234,7 +234,7 @@ public class ParallelProcess implements IResource{
 	}
 
 	/**
-	 * ü
+	 * 设置计算对象
 	 * @param dfx
 	 */
 	public void setDfx(Object dfx) {
@@ -242,10 +242,10 @@ public class ParallelProcess implements IResource{
 	}
 
 	/**
-	 * һҵ
-	 * @param argList ҵִв
-	 * @throws RQException ڲҪл͵ķֻȥִУ
-	 * ûʵлӿڵĲ׳쳣
+	 * 增加一个子作业
+	 * @param argList 子作业的执行参数
+	 * @throws RQException 由于参数需要被序列化后发送到别的分机去执行，
+	 * 所以没实现序列化接口的参数会抛出异常
 	 */
 	public void addCall(List<Object> argList) throws RQException {
 		for (Object obj : argList) {
@@ -277,8 +277,8 @@ public class ParallelProcess implements IResource{
 	}
 
 	/**
-	 * ȡִеǰҵ
-	 * @param reason ȡҵԭ
+	 * 取消执行当前作业
+	 * @param reason 取消作业的原因
 	 */
 	public void cancel(String reason){
 		isCanceled = true;
@@ -312,24 +312,24 @@ public class ParallelProcess implements IResource{
 	void checkCallerSize() {
 		int size = callers.size();
 		if (size == 0) {
-//		ûвҲܵcallxڽҪִзֻһdfxҪΡ
+//		没有参数也能调用callx，用于仅仅需要执行分机的一个dfx，但不需要参数的情形。
 			Caller caller = new Caller(new ArrayList());
 			callers.add(caller);
 		}
 	}
 	
 	/**
-	 * ȡǰҵµ߳Ŀڵ
-	 * @return ̼߳
+	 * 获取当前作业下的线程数目，用于调试
+	 * @return 线程计数
 	 */
 	public static int threadCount() {
 		return threadCount(false);
 	}
 	
 	/**
-	 * ȡ߳Ŀ
-	 * @param showName ǰ̵߳ͬʱӡ̨Ե
-	 * @return ̼߳
+	 * 获取线程数目
+	 * @param showName 将当前线程的名字同时打印到控制台，用以调试
+	 * @return 线程计数
 	 */
 	public static int threadCount(boolean showName) {
 		Map<Thread, StackTraceElement[]> map = Thread.getAllStackTraces();
@@ -343,8 +343,8 @@ public class ParallelProcess implements IResource{
 	}
 	
 	/**
-	 * ִеǰҵ
-	 * @return 
+	 * 执行当前作业
+	 * @return 计算结果
 	 */
 	public Object execute(){
 		checkCallerSize();
@@ -359,10 +359,10 @@ public class ParallelProcess implements IResource{
 					result.add(null);
 				}
 				Caller caller = callers.get(i);
-//				ÿ̵ֽUCֻһǹģÿִֽеҵֻһҲǴ˴֤˷̵ֽĴҵ
+//				每个分进程的UC只有一个，且是共享的，所以每个分进程执行的作业只能是一个，也就是此处保证了分进程的串行作业
 //				UnitClient uc = getClient();
-				caller.setUnitClient( null );//ȫΪִ߳
-				pool.submit(caller);
+				caller.setUnitClient( null );//全部为本机线程执行
+				PerfMonitor.submitProcess(pool, caller);
 			}
 			joinCallers();
 			return getResult();
@@ -372,6 +372,7 @@ public class ParallelProcess implements IResource{
 			interruptAll(null, x);
 			throw new RuntimeException(x);
 		}finally{
+			PerfMonitor.removeProcesses(pool);
 			pool.shutdown();
 			closeConnects();
 		}
@@ -382,19 +383,19 @@ public class ParallelProcess implements IResource{
 	}
 	
 	/**
-	 * reduce֣һֱӱʽ
-	 * һʹò
-	 * @return Ǳʽreducetrue
+	 * reduce动作分两种，一种直接表达式计算
+	 * 另一种使用网格设置参数来计算
+	 * @return 如果是表达式计算的reduce返回true
 	 */
 	boolean isExpReduce(){
 		return (reduce instanceof String);
 	}
 	
 	/**
-	 * ҵɺ󣬸SPACEIDȡֻϵreduceս
-	 * ȡͬʱշֻĽ档
-	 * @param SPACEID ĿռID
-	 * @return ĳֻϵreduce
+	 * 主机在所有作业都计算完成后，根据SPACEID来获取分机上的reduce的最终结果
+	 * 结果取完后，同时清空分机的结果缓存。
+	 * @param SPACEID 任务的空间ID
+	 * @return 任务在某分机上的reduce结果
 	 */
 	public static Object getReduceResult(String SPACEID){
 		Object val = reduceResults.get(SPACEID);
@@ -404,7 +405,7 @@ public class ParallelProcess implements IResource{
 	
 	Object getResult(){
 		if( needReduce() ){
-//			reduceĵҵзأǼreduceResultsУҵֱӷtruereduceĽ
+//			reduce的单步计算结果不在作业中返回，而是记在reduceResults中，单步作业直接返回true告诉主机reduce的结果计算完成
 			return true;
 		}else{
 			return result;
@@ -416,7 +417,7 @@ public class ParallelProcess implements IResource{
 
 		PgmCellSet pcs = (PgmCellSet)reduce;
 		pcs.setContext(context);
-		if(accumulateLocation==null){//ûλϢʱʹòλ
+		if(accumulateLocation==null){//没有位置信息时，则使用参数位置
 			CellSetUtil.putArgValue(pcs, new Object[]{prevValue,curValue});
 		}else{
 			int row = accumulateLocation.getRow();
@@ -452,11 +453,11 @@ public class ParallelProcess implements IResource{
 		}
 	}
 
-	// ĳִʱ
+	// 当某分错误时打断其它的
 	void interruptAll(Caller master,Throwable x) {
 		isCanceled = true;
 		if (interrupt) {
-			return; // ߳дʱһϹ̴߳󶼺
+			return; // 后续线程有错时，一旦打断过，后续线程错误都忽略
 		}
 		interrupt = true;
 		interruptException = x;
@@ -464,8 +465,8 @@ public class ParallelProcess implements IResource{
 		
 		int size = callers.size();
 		
-//Dispatchable ExecuteʱÿֻֻһҵʱȻҲдϣʵǴԼ
-//ִкcallerĴ		
+//Dispatchable Execute时，每个分机只会有一个作业，此时虽然也有打断，但其实就是打断自己
+//不用执行后面打断其他caller的代码		
 		if(size==1){
 			return;
 		}
@@ -484,7 +485,7 @@ public class ParallelProcess implements IResource{
 			boolean isAllFinished = false;
 			for (int i = 0; i < size; i++) {
 				Caller caller = callers.get(i);
-//				ĴҪȴԴ˴ķCallerҪ
+//				发起者自身的代码要等待继续，所以此处的发起Caller要跳过
 				if(caller!=master){
 					if(caller.isRunning()){
 						isAllFinished = false;
@@ -500,18 +501,18 @@ public class ParallelProcess implements IResource{
 	}
 
 /**
- * ׷һֿͻuc뵽еucdispatchable־
- * @param uc ֻͻ
+ * 追加一个分客户端uc，放入到队列的uc，得有dispatchable标志
+ * @param uc 分机客户端
  */
 	public void appendClient(UnitClient uc){
 		appendClient(uc,true);
 	}
 	
 	/**
-	 * ׷һķֻͻˣ
-	 * ҪݴĿͻˣ൱һucݣҲиʺҵչucҪ¡
-	 * @param uc ͻ
-	 * @param needClone ǷҪ¡ͻ
+	 * 追加一个计算的分机客户端，
+	 * 需要容错的客户端，相当于另一个uc备份，也有根据适合作业数扩展的uc，需要克隆出来
+	 * @param uc 客户端
+	 * @param needClone 是否需要克隆客户端
 	 */
 	public void appendClient(UnitClient uc,boolean needClone){
 		UnitClient ucClone = uc;
@@ -523,19 +524,19 @@ public class ParallelProcess implements IResource{
 			ucClone.setDispatchable();
 			ucList.add(ucClone);
 		}catch(Exception x){
-//		socketܵԴƣԼʹѾϵnodeҲȻܽӳ
+//		由于socket受到机器资源限制，所以即使是已经连接上的node，也仍然可能建立新连接出错
 		}
 	}
 	
 	/**
-	 * ҵɺͷſͻ
-	 * @param uc ͻ
+	 * 作业计算完成后，释放客户端
+	 * @param uc 客户端
 	 */
 	public void releaseClient(UnitClient uc) {
 		if(uc==null || ucList==null){
 			return;
 		}
-//		ǴӶȡUCͷʱ뵽
+//		如果不是从队列里面获取到的UC，释放时不加入到队列
 		if(!uc.isDispatchable()){
 			return;
 		}
@@ -546,14 +547,14 @@ public class ParallelProcess implements IResource{
 	}
 	
 	/**
-	 * ͻ˶ȡһԼĶʵ
-	 * getClientreleaseClientɶʹ
-	 * @return пuc򷵻ȴucͷ
+	 * 客户端队列里面获取一个可以计算的对象实例
+	 * getClient方法必须与releaseClient成对使用
+	 * @return 如果有空闲uc对象，则返回它，否则会等待uc被释放
 	 */
 	public UnitClient getClient(){
-//		ûдhostʱֱڱضִ߳Сֱӷnullͻ
+//		没有写host参数时，直接在本地多线程执行。直接返回null客户端
 		if(ucList==null){
-			if(hostManager.getHost()==null){//ڷִֻʱǱ߳
+			if(hostManager.getHost()==null){//如果不是在分机中执行时，都是本地线程
 				return null;
 			}
 		}
@@ -577,7 +578,7 @@ public class ParallelProcess implements IResource{
 		List<?> argList;
 		UnitClient uc = null;
 		Integer taskId = null;
-		private boolean isOneOption = false;//1ѡǰҵɺ󣬾жҵ
+		private boolean isOneOption = false;//如果是1选项，则当前作业计算完成后，就立刻中断其他的作业
 		
 		transient boolean isRunning = false;
 		public Caller(List<?> argList) {
@@ -600,7 +601,7 @@ public class ParallelProcess implements IResource{
 		public void setUnitClient(UnitClient uc) throws Exception {
 			this.uc = uc;
 			if (canRunOnLocal()) {
-				// ԱִʱҪӷֻȡţҲֻĳ
+				// 如果可以本地执行时，不需要从分机获取任务号，也不建立跟分机的常连接
 				taskId = UnitServer.nextId();
 				return;
 			}
@@ -633,7 +634,7 @@ public class ParallelProcess implements IResource{
 			return true;
 		}
 
-		public void breakOff() { // Ͽʱرͨ
+		public void breakOff() { // 网络断开时，关闭相关通信流
 			try {
 				uc.close();
 			} catch (Exception x) {
@@ -642,7 +643,7 @@ public class ParallelProcess implements IResource{
 
 		String getErrorDesc(String errMsg) {
 			MessageManager mm = EngineMessage.get();
-//			errMsgںջΪmessageԴкerrMsgϢҲ²errMsgȥЧ
+//			由于errMsg在后续堆栈会打出来，改为在message资源中忽略errMsg消息。也即如下参数errMsg传进去，但无效
 			return mm.getMessage("callx.error", dfxDelegate(dfx),
 					errMsg + "\r\n", this);
 		}
@@ -651,8 +652,8 @@ public class ParallelProcess implements IResource{
 			try {
 				Request req = new Request(Request.DFX_CALCULATE);
 				req.setAttr(Request.CALCULATE_TaskId, taskId);
-				// ֻʱ˵ģҪʱ̱oisԼoosԱ߳жϳʱǿ
-				// رնд
+				// 分机如果断网时，说不定会阻塞在哪，所以要时刻保持ois以及oos；以便监控线程判断出断网时，可以强行
+				// 关闭读写流。
 				Response res = uc.send(req);
 
 				if (res.getException() != null) {
@@ -660,13 +661,13 @@ public class ParallelProcess implements IResource{
 					if (ex instanceof RetryException) {
 							throw ex;
 					}
-//					ȡҲǴDataStoreconsoleģʱȻҪжϱˡ
+//					取消操作也可以能是从DataStoreconsole发来的，此时仍然需要中断别人。
 					if (ex instanceof CanceledException) {
-						// ѾǱȡ񣬲ҪٵinterruptAll
+						// 已经是被别人取消的任务，不需要再调用interruptAll
 					} else {
 						throw ex;
 					}
-				} else if (res.getError() != null) { // һΪڴ
+				} else if (res.getError() != null) { // 一般为内存溢出错误
 					Error err = res.getError();
 					throw err;
 				} else {
@@ -699,7 +700,7 @@ public class ParallelProcess implements IResource{
 		}
 		
 		/**
-		 * ܲÿʵһ¡
+		 * 程序网不能并发，所以每个实例一个克隆
 		 */
 		private Object getDfxObject(){
 			Object dfxObj = dfx;
@@ -733,11 +734,11 @@ public class ParallelProcess implements IResource{
 					}
 					
 					if (ex instanceof CanceledException) {
-//						 ѾǱȡ񣬲ҪٵinterruptAll
+//						 已经是被别人取消的任务，不需要再调用interruptAll
 					} else {
 						throw ex;
 					}
-				} else if (res.getError() != null) { // һΪڴ
+				} else if (res.getError() != null) { // 一般为内存溢出错误
 					Error err = res.getError();
 					throw err;
 				} else {
@@ -755,19 +756,22 @@ public class ParallelProcess implements IResource{
 			if (uc == null) {
 				return true;
 			}
-			// ֻhostIPIDEõĻеıصַͬҲǱִ߳ 2013.10.22
+			// 如果分机的host和IP跟IDE设置的环境变量中的本地地址相同，则也是本地线程执行 2013.10.22
 			return uc.isEqualToLocal();
 		}
 
 		public void run() {
+			// 由PerfMonitor.submitProcess调度提交，已计入并发数，线程池关闭后才执行到时并发数已被释放
+			if (!PerfMonitor.startProcess(this)) {
+				return;
+			}
+			
 			isRunning = true;
 			try {
-				PerfMonitor.enterProcess();
-				
 				boolean cancel = isCanceled;
 				if( !cancel ){
 					long l1 = System.currentTimeMillis();
-					Logger.debug( mm.getMessage("Task.taskBegin",this));//this+" ʼ㡣");
+					Logger.debug( mm.getMessage("Task.taskBegin",this));//this+" 开始计算。");
 					if (canRunOnLocal()) {
 						runOnLocal();
 					}else{
@@ -776,7 +780,7 @@ public class ParallelProcess implements IResource{
 					long l2 = System.currentTimeMillis();
 					DecimalFormat df = new DecimalFormat("###,###");
 					long lastTime = l2 - l1;
-					Logger.debug(mm.getMessage("Task.taskEnd",this,df.format(lastTime)));//this+" ɣʱ"+df.format(lastTime)+ " 롣 ");
+					Logger.debug(mm.getMessage("Task.taskEnd",this,df.format(lastTime)));//this+" 计算完成，耗时："+df.format(lastTime)+ " 毫秒。 ");
 				}else{
 					Logger.info(mm.getMessage("ParallelProcess.cancelfor",this,TERMINATE));
 				}
@@ -806,10 +810,10 @@ public class ParallelProcess implements IResource{
 			sb.append("  ");
 			sb.append( getArgDesc()+" " );
 //			MessageManager pm = ParallelMessage.get();
-//			if(canRunOnLocal() || UnitServer.instance==null ){//ͻϻʱ
-//				sb.append(pm.getMessage("Task.taskid",taskId));//" =[ "+ taskId+" ]"
+//			if(canRunOnLocal() || UnitServer.instance==null ){//客户机上或者主进程时
+//				sb.append(pm.getMessage("Task.taskid",taskId));//" 任务号=[ "+ taskId+" ]"
 //			}else{
-//				sb.append(pm.getMessage("Task.taskid2",taskId));//" =[ "+ taskId+" ]"
+//				sb.append(pm.getMessage("Task.taskid2",taskId));//" 子任务号=[ "+ taskId+" ]"
 //			}
 			return sb.toString();
 		}
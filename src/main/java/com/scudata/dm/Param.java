@@ -11,32 +11,32 @@ import com.scudata.common.ICloneable;
 import com.scudata.common.IRecord;
 
 /**
- * ڶʱ
+ * 用于定义网格参数或临时变量
  * @author WangXiaoJun
  *
  */
 public class Param implements Cloneable, ICloneable, Externalizable, IRecord {
 	private static final long serialVersionUID = 0x05000003;
 
-	public final static byte VAR = (byte)0; // 
-	public final static byte ARG = (byte)1; // Ҫ룬ֵܸ
-	public final static byte CONST = (byte)3; // ֵܸ
+	public final static byte VAR = (byte)0; // 变量
+	public final static byte ARG = (byte)1; // 参数，需要输入，不能赋值
+	public final static byte CONST = (byte)3; // 常量，不能赋值
 	
-	private String name; // 
-	private byte kind = VAR; // 
-	private Object value; // ֵ
+	private String name; // 参数名
+	private byte kind = VAR; // 类型
+	private Object value; // 参数值
 
-	private String remark; // עûдṩı༭֮
-	private Object editValue; // ༭αʱʹ
+	private String remark; // 备注，可以让用户随便填写东西，将来用于提供参数的编辑风格之类
+	private Object editValue; // 编辑表排列伪常量时界面使用
 
 	public Param() {
 	}
 
 	/**
-	 * һµĲ
-	 * @param name String 
-	 * @param kind byte ͣVARATTREXPCONST
-	 * @param value Object ֵ
+	 * 产生一个新的参数
+	 * @param name String 参数名
+	 * @param kind byte 参数类型：VAR、ATTR、EXP、CONST
+	 * @param value Object 参数值
 	 */
 	public Param(String name,  byte kind, Object value ) {
 		this.name = name;
@@ -45,8 +45,8 @@ public class Param implements Cloneable, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ɲһͬ²
-	 * @param other Param һ
+	 * 由参数构造一个内容相同的新参数
+	 * @param other Param 另一个参数
 	 */
 	public Param(Param other) {
 		if (other != null) {
@@ -58,7 +58,7 @@ public class Param implements Cloneable, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ز
+	 * 返回参数名
 	 * @return String
 	 */
 	public String getName() {
@@ -66,15 +66,15 @@ public class Param implements Cloneable, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ò
-	 * @param name String 
+	 * 设置参数名
+	 * @param name String 参数名
 	 */
 	public void setName( String name ) {
 		this.name = name;
 	}
 
 	/**
-	 * ز
+	 * 返回参数类型
 	 * @return byte
 	 */
 	public byte getKind() {
@@ -82,7 +82,7 @@ public class Param implements Cloneable, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ò
+	 * 设置参数类型
 	 * @param kind byte
 	 */
 	public void setKind( byte kind ) {
@@ -90,7 +90,7 @@ public class Param implements Cloneable, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * زֵ
+	 * 返回参数值
 	 * @return Object
 	 */
 	public Object getValue() {
@@ -98,7 +98,7 @@ public class Param implements Cloneable, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * òֵ
+	 * 设置参数值
 	 * @param defValue Object
 	 */
 	public void setValue( Object defValue ) {
@@ -106,7 +106,7 @@ public class Param implements Cloneable, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * ȡע
+	 * 取备注
 	 * @return String
 	 */
 	public String getRemark() {
@@ -114,7 +114,7 @@ public class Param implements Cloneable, ICloneable, Externalizable, IRecord {
 	}
 
 	/**
-	 * 豸ע
+	 * 设备注
 	 * @param str String
 	 */
 	public void setRemark(String str) {
@@ -163,7 +163,7 @@ public class Param implements Cloneable, ICloneable, Externalizable, IRecord {
 		out.writeObject(value);
 		out.writeObject(editValue);
 
-		out.writeObject(remark); // 汾2
+		out.writeObject(remark); // 版本2添加
 	}
 
 	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
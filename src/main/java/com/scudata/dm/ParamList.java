@@ -13,7 +13,7 @@ import com.scudata.common.ICloneable;
 import com.scudata.common.IRecord;
 
 /**
- * бڱ
+ * 参数列表，用于保存变量、参数、常量
  * @author WangXiaoJun
  *
  */
@@ -21,14 +21,14 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	private static final long serialVersionUID = 0x05000004;
 
 	private List<Param> vList;
-	private boolean isUserChangeable; //Ƿÿʱò
+	private boolean isUserChangeable; //是否每次重新运行时设置参数
 
 	public ParamList() {
 	}
 
 	/**
-	 * һбĲӵǰб
-	 * @param pl б
+	 * 把另一个参数列表里的参数添加到当前参数列表中
+	 * @param pl 参数列表
 	 */
 	public void addAll(ParamList pl) {
 		if (pl.vList != null && pl.vList.size() > 0) {
@@ -41,8 +41,8 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * Ӳ
-	 * @param v Param 
+	 * 添加参数
+	 * @param v Param 参数
 	 */
 	public void add(Param v) {
 		if (vList == null) {
@@ -53,9 +53,9 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * Ӳָλ
-	 * @param index int ָλ
-	 * @param v Param 
+	 * 添加参数到指定位置
+	 * @param index int 指定位置
+	 * @param v Param 参数
 	 */
 	public void add(int index, Param v) {
 		if (isValid(v)) {
@@ -68,10 +68,10 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * ơֵ͡ޱ
-	 * @param name String 
-	 * @param kind byte 
-	 * @param value Object ֵ
+	 * 按给定名称、参数类型、参数值来添加无标题参数
+	 * @param name String 参数名称
+	 * @param kind byte 参数类型
+	 * @param value Object 参数值
 	 */
 	public void add(String name, byte kind, Object value) {
 		Param v = new Param(name, kind, value);
@@ -85,36 +85,36 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * ơֵޱ
-	 * @param name String 
-	 * @param value Object ֵ
+	 * 按给定名称、参数值来添加无标题变量
+	 * @param name String 变量名称
+	 * @param value Object 变量参数值
 	 */
 	public void addVariable(String name, Object value) {
 		add(name, Param.VAR, value);
 	}
 
 	/**
-	 * ơ⡢ֵӲ
-	 * @param name String 
-	 * @param value Object ֵ
+	 * 按给定名称、标题、参数值来添加参数
+	 * @param name String 参数名称
+	 * @param value Object 参数值
 	 */
 	public void addArgument(String name, Object value) {
 		add(name, Param.ARG, value);
 	}
 
 	/**
-	 * ơ⡢ֵӳ
-	 * @param name String 
-	 * @param value Object ֵ
+	 * 按给定名称、标题、参数值来添加常参数
+	 * @param name String 常参数名称
+	 * @param value Object 常参数值
 	 */
 	public void addConstant( String name, Object value ) {
 		add(name, Param.CONST, value);
 	}
 
 	/**
-	 * Ƴָλò
-	 * @param index int ָλ
-	 * @return Param Ƴ
+	 * 移除指定位置参数
+	 * @param index int 指定位置
+	 * @return Param 移除参数
 	 */
 	public Param remove(int index) {
 		if (vList == null || vList.size() <= index ) {
@@ -125,9 +125,9 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * ƳָƲ
-	 * @param name String ָ
-	 * @return Param Ƴ
+	 * 移除指定名称参数
+	 * @param name String 指定名称
+	 * @return Param 移除参数
 	 */
 	public Param remove(String name) {
 		if (vList == null) {
@@ -145,9 +145,9 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * ȡָλò
-	 * @param index int ָλ
-	 * @return Param 
+	 * 获取指定位置参数
+	 * @param index int 指定位置
+	 * @return Param 参数
 	 */
 	public Param get(int index) {
 		if (vList == null || vList.size() <= index) {
@@ -158,9 +158,9 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * ȡָƲ
-	 * @param name String ָ
-	 * @return Param 
+	 * 获取指定名称参数
+	 * @param name String 指定名称
+	 * @return Param 参数
 	 */
 	public Param get(String name) {
 		if (vList == null) {
@@ -178,8 +178,8 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * ֵvalueĲ
-	 * @param value Object ֵ
+	 * 查找值等于value的参数
+	 * @param value Object 参数值
 	 * @return Param
 	 */
 	public Param getByValue(Object value) {
@@ -198,8 +198,8 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * ȡб
-	 * @param varList ParamList б
+	 * 获取所有变量
+	 * @param varList ParamList 变量参数列表
 	 */
 	public void getAllVarParams(ParamList varList) {
 		if (vList == null) {
@@ -215,8 +215,8 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * ȡв
-	 * @param expParamList ParamList б
+	 * 获取所有参数
+	 * @param expParamList ParamList 参数列表
 	 */
 	public void getAllArguments(ParamList expParamList) {
 		if (vList == null) {
@@ -232,8 +232,8 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 	
 	/**
-	 * ȡг
-	 * @param varList ParamList б
+	 * 获取所有常参数
+	 * @param varList ParamList 常参数列表
 	 */
 	public void getAllConsts(ParamList varList) {
 		if (vList == null) {
@@ -249,17 +249,17 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * Ƿָ
-	 * @param p Param ָ
-	 * @return boolean Ƿ
+	 * 是否包含指定参数
+	 * @param p Param 指定参数
+	 * @return boolean 是否包含
 	 */
 	public boolean contains(Param p) {
 		return (vList == null ? false : vList.contains(p));
 	}
 
 	/**
-	 * 
-	 * @return int 
+	 * 参数总数
+	 * @return int 总数
 	 */
 	public int count() {
 		if (vList == null) {
@@ -270,14 +270,14 @@ public class ParamList implements Cloneable, ICloneable, Externalizable, IRecord
 	}
 
 	/**
-	 * ղб
+	 * 清空参数列表
 	 */
 	public void clear() {
 		vList = null;
 	}
 
 	/**
-	 * ȸ
+	 * 深度复制
 	 * @return Object
 	 */
 	public Object deepClone() {
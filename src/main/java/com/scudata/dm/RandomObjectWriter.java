@@ -3,7 +3,7 @@ package com.scudata.dm;
 import java.io.IOException;
 
 /**
- * Ըıλõд
+ * 可以改变输出位置的写对象
  * @author WangXiaoJun
  *
  */
@@ -11,8 +11,8 @@ final public class RandomObjectWriter extends ObjectWriter {
 	RandomOutputStream ros;
 	
 	/**
-	 * Ըıλõд
-	 * @param out Ըıλõ
+	 * 构建可以改变输出位置的写对象
+	 * @param out 可以改变输出位置的输出流
 	 */
 	public RandomObjectWriter(RandomOutputStream out) {
 		super(out);
@@ -20,7 +20,7 @@ final public class RandomObjectWriter extends ObjectWriter {
 	}
 
 	/**
-	 * صǰλ
+	 * 返回当前输出位置
 	 * @return
 	 * @throws IOException
 	 */
@@ -29,7 +29,7 @@ final public class RandomObjectWriter extends ObjectWriter {
 	}
 	
 	/**
-	 * λ
+	 * 设置输出位置
 	 * @param newPosition
 	 * @throws IOException
 	 */
@@ -5,34 +5,34 @@ import java.io.IOException;
 import java.io.InputStream;
 
 /**
- * Ըıλõ
+ * 可以改变输出位置的输出流
  * @author WangXiaoJun
  *
  */
 public abstract class RandomOutputStream extends OutputStream {
 	/**
-	 * λ
+	 * 设置输出位置
 	 * @param newPosition
 	 * @throws IOException
 	 */
 	public abstract void position(long newPosition) throws IOException;
 	
 	/**
-	 * صǰλ
+	 * 返回当前输出位置
 	 * @return
 	 * @throws IOException
 	 */
 	public abstract long position() throws IOException;
 	
 	/**
-	 * ɹtrue
+	 * 如果锁定成功返回true
 	 * @return
 	 * @throws IOException
 	 */
 	public abstract boolean tryLock() throws IOException;
 	
 	/**
-	 * ȴֱɹ
+	 * 等待锁，直到锁成功
 	 * @return boolean
 	 * @throws IOException
 	 */
@@ -41,8 +41,8 @@ public abstract class RandomOutputStream extends OutputStream {
 	}
 	
 	/**
-	 * ȡָλÿʼ
-	 * @param pos λ
+	 * 取从指定位置开始的输入流
+	 * @param pos 位置
 	 * @return InputStream
 	 * @throws IOException
 	 */
@@ -17,7 +17,7 @@ import com.scudata.util.Variant;
 
 
 /**
- * ¼ֶ࣬0ʼ
+ * 记录对象类，字段索引从0开始计数
  * @author WangXiaoJun
  *
  */
@@ -27,12 +27,12 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	protected DataStruct ds;
 	protected Object []values;
 
-	// лʱʹ
+	// 序列化时使用
 	public Record() {}
 
 	/**
-	 * ¼¼
-	 * @param ds DataStruct ¼Ľṹ
+	 * 构建新记录
+	 * @param ds DataStruct 记录的结构
 	 */
 	public Record(DataStruct ds) {
 		this.ds = ds;
@@ -40,9 +40,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ¼¼
-	 * @param ds DataStruct ¼Ľṹ
-	 * @param initVals Object[] ʼֵ
+	 * 构建新记录
+	 * @param ds DataStruct 记录的结构
+	 * @param initVals Object[] 初始值
 	 */
 	public Record(DataStruct ds, Object []initVals) {
 		this.ds = ds;
@@ -50,7 +50,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 		System.arraycopy(initVals, 0, values, 0, initVals.length);
 	}
 	
-	/*½ӿڼ̳IComputeItemڼ*/
+	/*以下接口继承自IComputeItem，用于计算*/
 	public Object getCurrent() {
 		return this;
 	}
@@ -69,10 +69,10 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 		
 	public void popStack() {
 	}
-	/*Ͻӿڼ̳IComputeItemڼ*/
+	/*以上接口继承自IComputeItem，用于计算*/
 	
 	/**
-	 * ؼ¼Ľṹ
+	 * 返回记录的结构
 	 * @return DataStruct
 	 */
 	public DataStruct dataStruct() {
@@ -80,7 +80,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ü¼ݽṹ
+	 * 设置记录的数据结构
 	 * @param ds
 	 */
 	public void setDataStruct(DataStruct ds) {
@@ -88,7 +88,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ڽṹеûж򷵻ؿ
+	 * 返回主键在结构中的索引，没有定义主键则返回空
 	 * @return int[]
 	 */
 	public int[] getPKIndex() {
@@ -96,8 +96,8 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * Ѽ¼лֽ
-	 * @return ֽ
+	 * 把记录序列化成字节数组
+	 * @return 字节数组
 	 */
 	public byte[] serialize() throws IOException{
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -114,8 +114,8 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֽ¼
-	 * @param buf ֽ
+	 * 由字节数组填充记录
+	 * @param buf 字节数组
 	 */
 	public void fillRecord(byte[] buf) throws IOException, ClassNotFoundException {
 		ByteArrayInputRecord in = new ByteArrayInputRecord(buf);
@@ -134,19 +134,19 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	public void writeExternal(ObjectOutput out) throws IOException {
-		out.writeByte(1); // 汾
+		out.writeByte(1); // 版本号
 		out.writeObject(ds);
 		out.writeObject(values);
 	}
 
 	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-		in.readByte(); // 汾
+		in.readByte(); // 版本号
 		ds = (DataStruct) in.readObject();
 		values = (Object[]) in.readObject();
 	}
 
 	/**
-	 * ֶεĿ
+	 * 返回字段的数目
 	 * @return int
 	 */
 	public int getFieldCount() {
@@ -154,7 +154,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ؼ¼ֶ
+	 * 返回记录所有字段名
 	 * @return String[]
 	 */
 	public String[] getFieldNames() {
@@ -162,9 +162,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ޸ļ¼ݽṹ
-	 * @param newDs ½ṹ
-	 * @param newValues ֵֶ
+	 * 修改记录的数据结构
+	 * @param newDs 新结构
+	 * @param newValues 新字段值
 	 */
 	void alter(DataStruct newDs, Object []newValues) {
 		int newCount = newValues.length;
@@ -177,7 +177,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֶεαֶδӷαֶεĿʼֶβ򷵻-1
+	 * 返回字段的索引，伪字段从非伪字段的数目开始计数，如果字段不存在则返回-1
 	 * @param name String
 	 * @return int
 	 */
@@ -186,7 +186,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֶεֵ
+	 * 返回所有字段的值
 	 * @return Object[]
 	 */
 	public Object []getFieldValues() {
@@ -194,8 +194,8 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ĳһֶεֵ
-	 * @param index int ֶ0ʼ
+	 * 返回某一字段的值
+	 * @param index int 字段索引，从0开始计数
 	 * @return Object
 	 */
 	public Object getFieldValue(int index) {
@@ -215,10 +215,10 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 		}
 	}
 	
-	// ֶβʱؿ
+	// 字段不存在时返回空
 	/**
-	 * ȡֵֶֶβڷؿգ˷Ϊֽ֧ṹ
-	 * @param index ֶţ0ʼ
+	 * 取字段值，字段不存在返回空，此方法为了支持结构不纯的排列
+	 * @param index 字段序号，从0开始计数
 	 * @return
 	 */
 	public Object getFieldValue2(int index) {
@@ -237,8 +237,8 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ȡֵֶ߽
-	 * @param index ֶţ0ʼ
+	 * 取字段值，不做边界检查
+	 * @param index 字段序号，从0开始计数
 	 * @return
 	 */
 	public Object getNormalFieldValue(int index) {
@@ -246,26 +246,26 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ȡֵֶ߽
-	 * @param index ֶţ0ʼ
-	 * @param out ڴŽ㹻ж
+	 * 取字段值，不做边界检查
+	 * @param index 字段序号，从0开始计数
+	 * @param out 用于存放结果，容量足够不在做容量判断
 	 */
 	public void getNormalFieldValue(int index, IArray out) {
 		out.push(values[index]);
 	}
 
 	/**
-	 * ֵֶ߽
-	 * @param index ֶţ0ʼ
-	 * @param val ֵֶ
+	 * 设置字段值，不做边界检查
+	 * @param index 字段序号，从0开始计数
+	 * @param val 字段值
 	 */
 	public void setNormalFieldValue(int index, Object val) {
 		values[index] = val;
 	}
 
 	/**
-	 * ĳһֶεֵ
-	 * @param name String ֶ
+	 * 返回某一字段的值
+	 * @param name String 字段名
 	 * @return Object
 	 */
 	public Object getFieldValue(String name) {
@@ -279,9 +279,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ĳһֶεֵֻǷαֶ
-	 * @param index int  ֶ0ʼ
-	 * @param val Object ֵֶ
+	 * 设置某一字段的值，只能是非伪字段
+	 * @param index int  字段索引，从0开始计数
+	 * @param val Object 字段新值
 	 */
 	public void set(int index, Object val) {
 		if (index < 0) {
@@ -301,7 +301,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֵֶֶβڲκδ
+	 * 设置字段值，如果字段不存在不做任何处理
 	 * @param index
 	 * @param val
 	 */
@@ -317,9 +317,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ĳһֶεֵֻǷαֶ
-	 * @param name String ֶ
-	 * @param val Object  ֵֶ
+	 * 设置某一字段的值，只能是非伪字段
+	 * @param name String 字段名
+	 * @param val Object  字段新值
 	 */
 	public void set(String name, Object val) {
 		int index = dataStruct().getFieldIndex(name);
@@ -332,7 +332,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ֵֶȽ¼ĴС
+	 * 按字段值比较两条记录的大小
 	 * @param r BaseRecord
 	 * @return int
 	 */
@@ -359,9 +359,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Ƚֶָεֵ
-	 * @param fields int[] ֶ
-	 * @param fvalues Object[] ֵֶ
+	 * 比较指定字段的值
+	 * @param fields int[] 字段索引
+	 * @param fvalues Object[] 字段值
 	 * @return int
 	 */
 	public int compare(int []fields, Object []fvalues) {
@@ -375,7 +375,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֵֶȽ¼Ƿȣ¼ݽṹͬ
+	 * 按字段值比较两条记录是否相等，记录的数据结构必须相同？
 	 * @param r BaseRecord
 	 * @return boolean
 	 */
@@ -394,9 +394,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ж¼ֶָǷ
-	 * @param r BaseRecord ҪȽϵֶ
-	 * @param index int[] ֶ
+	 * 判断两记录的指定字段是否相等
+	 * @param r BaseRecord 要比较的字段
+	 * @param index int[] 字段索引
 	 * @return boolean
 	 */
 	public boolean isEquals(BaseRecord r, int []index) {
@@ -408,9 +408,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * rĿıֶתִ
-	 * @param opt String t'\t'ֶָΣȱʡöţqԱʱţȱʡᴦ
-	 * fתrֵֶֶ
+	 * 将r的可文本化字段转成字串
+	 * @param opt String t：用'\t'分隔字段，缺省用逗号，q：串成员接入时加上引号，缺省不会处理，
+	 * f：仅转换r的字段名而非字段值
 	 * @return String
 	 */
 	public String toString(String opt) {
@@ -463,7 +463,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Żʱʹãжڵļ¼ݽṹǷͬ
+	 * 优化时使用，判断相邻的记录的数据结构是否相同
 	 * @param cur
 	 * @return
 	 */
@@ -472,10 +472,10 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ޸ļ¼ֵֶ
-	 * @param exps ֵʽ
-	 * @param fields ֶ
-	 * @param ctx 
+	 * 修改记录的字段值
+	 * @param exps 值表达式数组
+	 * @param fields 字段名数组
+	 * @param ctx 计算上下文
 	 */
 	public void modify(Expression[] exps, String[] fields, Context ctx) {
 		ComputeStack stack = ctx.getComputeStack();
@@ -496,8 +496,8 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Լ¼ʽ
-	 * @param exps Expression[] ʽ
+	 * 针对记录计算表达式
+	 * @param exps Expression[] 计算表达式
 	 * @param ctx Context
 	 * @return Sequence
 	 */
@@ -518,9 +518,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ʽ
-	 * @param exp Expression ʽ
-	 * @param ctx Context Ļ
+	 * 计算表达式
+	 * @param exp Expression 计算表达式
+	 * @param ctx Context 计算上下文环境
 	 */
 	public void run(Expression exp, Context ctx) {
 		if (exp == null) return;
@@ -535,9 +535,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Լ¼ʽиֵ
-	 * @param assignExps Expression[] ֵʽ
-	 * @param exps Expression[] ֵʽ
+	 * 针对记录计算表达式并进行赋值
+	 * @param assignExps Expression[] 赋值表达式
+	 * @param exps Expression[] 值表达式
 	 * @param ctx Context
 	 */
 	public void run(Expression[] assignExps, Expression[] exps, Context ctx) {
@@ -567,7 +567,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Ѽ¼rĸֶεֵ˼¼¼ֶͬ
+	 * 把记录r的各字段的值依次设给此记录，记录字段需相同
 	 * @param r BaseRecord
 	 */
 	public void set(BaseRecord r) {
@@ -576,7 +576,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֶindexʼѼ¼rĸֶεֵ˼¼
+	 * 从字段index开始把记录r的各字段的值设给此记录
 	 * @param index int
 	 * @param r BaseRecord
 	 */
@@ -586,31 +586,31 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֶindexʼobjsԪ¼
-	 * @param index ֶ0ʼ
-	 * @param objs ֵֶ
+	 * 从字段index开始把objs的元素依次设给记录
+	 * @param index 字段索引，从0开始计数
+	 * @param objs 字段值数组
 	 */
 	public void setStart(int index, Object []objs) {
 		System.arraycopy(objs, 0, values, index, objs.length);
 	}
 
 	/**
-	 * ֶindexʼobjsԪ¼
-	 * @param index ֶ0ʼ
-	 * @param objs ֵֶ
-	 * @param len ֵֶ
+	 * 从字段index开始把objs的元素依次设给记录
+	 * @param index 字段索引，从0开始计数
+	 * @param objs 字段值数组
+	 * @param len 赋值的字段数
 	 */
 	public void setStart(int index, Object []objs, int len) {
 		System.arraycopy(objs, 0, values, index, len);
 	}
 
 	/**
-	 * ؼ¼ֵr.v()
-	 * @return 򷵻ֵ򷵻ֶιɵ
+	 * 返回记录的值r.v()
+	 * @return 如果设置了主键则返回主键值，否则返回所有字段构成的序列
 	 */
 	public Object value() {
-		// лᵼѭ
-		// ֶָθΪȡ
+		// 如果外键有环会导致死循环？
+		// 指引字段改为取主键？
 		int []pkIndex = ds.getPKIndex();
 		if (pkIndex == null) {
 			Object []values = this.values;
@@ -659,7 +659,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ؼ¼ɵУûʱؿ
+	 * 返回记录的主键或多主键构成的序列，没有主键时返回空
 	 * @return Object
 	 */
 	public Object key() {
@@ -696,7 +696,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ؼ¼ɵУû쳣
+	 * 返回记录的主键或多主键构成的序列，没有主键抛异常
 	 * @return Object
 	 */
 	public Object getPKValue() {
@@ -735,9 +735,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * Ѽ¼rֵֶ˼¼
+	 * 把记录r的字段值赋给此记录
 	 * @param sr BaseRecord
-	 * @param isName boolean Ƿֶи
+	 * @param isName boolean 是否按字段名进行复制
 	 */
 	public void paste(BaseRecord sr, boolean isName) {
 		if (sr == null) return;
@@ -760,7 +760,7 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * еԪθ˼¼
+	 * 把序列的元素依次赋给此记录
 	 * @param series Sequence
 	 */
 	public void paste(Sequence series) {
@@ -775,9 +775,9 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * еԪθ˼¼
+	 * 把序列的元素依次赋给此记录
 	 * @param series Sequence
-	 * @param start int еʼλ
+	 * @param start int 序列的起始位置
 	 */
 	public void paste(Sequence series, int start) {
 		Object values[] = this.values;
@@ -790,8 +790,8 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 
 	/**
-	 * ֶǷö
-	 * @return boolean trueöfalseûö
+	 * 检查字段是否有引用对象
+	 * @return boolean true：有引用对象，false：没有引用对象
 	 */
 	public boolean checkReference() {
 		Object []values = this.values;
@@ -808,11 +808,11 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * Լ¼ݹѯ
-	 * @param field ֶ
-	 * @param p ָռ¼
-	 * @param maxLevel Ĳ
-	 * @return ü¼ɵ
+	 * 对记录的外键做递归查询
+	 * @param field 外键字段名
+	 * @param p 指向的最终记录
+	 * @param maxLevel 遍历最大的层次
+	 * @return 引用记录构成的序列
 	 */
 	public Sequence prior(String field, BaseRecord p, int maxLevel) {
 		int f = ds.getFieldIndex(field);
@@ -825,11 +825,11 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * Լ¼ݹѯ
-	 * @param f ֶţ0ʼ
-	 * @param p ָռ¼
-	 * @param maxLevel Ĳ
-	 * @return ü¼ɵ
+	 * 对记录的外键做递归查询
+	 * @param f 外键字段序号，从0开始计数
+	 * @param p 指向的最终记录
+	 * @param maxLevel 遍历最大的层次
+	 * @return 引用记录构成的序列
 	 */
 	public Sequence prior(int f, BaseRecord p, int maxLevel) {
 		if (this == p) {
@@ -874,15 +874,15 @@ public class Record extends BaseRecord implements Externalizable, IRecord {
 	}
 	
 	/**
-	 * ؼ¼Ƿʱ
-	 * @return trueʱ
+	 * 返回记录是否有时间键
+	 * @return true：有时间键
 	 */
 	public boolean hasTimeKey() {
 		return ds.getTimeKeyCount() > 0;
 	}
 	
 	/**
-	 * ѵǰ¼תRecord͵ļ¼Recordֱӷ
+	 * 把当前记录转成Record型的记录，如果本事是Record型则直接返回
 	 * @return Record
 	 */
 	public Record toRecord() {
@@ -3,8 +3,8 @@ package com.scudata.dm;
 import java.util.ArrayList;
 
 /**
- * б߽
- * ʱѹandor֣Ķбٽкϲ
+ * 区域列表，用与对区域做并操作或者交操作
+ * 对序列做过滤时会把过滤条件按and和or拆分，算出来的多个区域列表再进行合并
  * @author WangXiaoJun
  *
  */
@@ -23,7 +23,7 @@ public class Regions {
 	}
 	
 	/**
-	 * ˳Ҳص
+	 * 按顺序加入区域，区域有序且不重叠
 	 * @param region
 	 */
 	public void addRegion(Region region) {
@@ -31,9 +31,9 @@ public class Regions {
 	}
 	
 	/**
-	 * һб
-	 * @param other б
-	 * @return бĽ
+	 * 跟另一个区域列表做交操作
+	 * @param other 区域列表
+	 * @return 两个区域列表的交
 	 */
 	public Regions and(Regions other) {
 		Regions regions = new Regions();
@@ -73,9 +73,9 @@ public class Regions {
 	}
 	
 	/**
-	 * һб
-	 * @param other б
-	 * @return бĲ
+	 * 跟另一个区域列表做并操作
+	 * @param other 区域列表
+	 * @return 两个区域列表的并
 	 */
 	public Regions or(Regions other) {
 		Regions regions = new Regions();
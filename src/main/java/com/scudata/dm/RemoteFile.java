@@ -6,7 +6,7 @@ import java.util.*;
 import com.scudata.common.*;
 import com.scudata.parallel.*;
 /**
- * Զļ
+ * 远程文件
  * 
  * @author Joancy
  *
@@ -21,8 +21,8 @@ public class RemoteFile implements IFile {
 
 	private transient HashMap property = null;
 	/**
-	 * Զļ(ڲ)
-	 * ֻʵ3readδʵ쳣ʵֿɲμBufferInputStream
+	 * 远程文件输入流(内部类)，长连接
+	 * 暂只实现3个read方法，其它方法抛未实现异常，具体实现可参见BufferInputStream
 	 * @author Joancy
 	 *
 	 */
@@ -50,10 +50,10 @@ public class RemoteFile implements IFile {
 		}
 
 		/**
-		 * 췽ڴgetInputStreamȥȡļȡ		
-		 * @param fileHandle ļ
-		 * @param bufSize ÿȡĻС
-		 * @param pos ȡλ
+		 * 构造方法用于从输出流的getInputStream中去获取，不从文件名取。		
+		 * @param fileHandle 文件句柄
+		 * @param bufSize 每次取数的缓冲区大小
+		 * @param pos 取数位置
 		 * @throws Exception
 		 */
 		public RemoteFileInputStream(int fileHandle,int bufSize,long pos) throws Exception {
@@ -70,7 +70,7 @@ public class RemoteFile implements IFile {
 		}
 		
 		/**
-		 * ʵtoStringӿ
+		 * 实现toString接口
 		 */
 		public String toString() {
 			if (filepath == null) {
@@ -105,13 +105,13 @@ public class RemoteFile implements IFile {
 				throw new IOException("Read remote file:" + uc+"-"+r.getMessage() + " error.", r);
 			}
 			return buf;
-		} // Զ̴򿪡ȡȻر
+		} // 远程打开、读取然后关闭
 
 		/**
-		 * رscoket
+		 * 关闭scoket
 		 */
 		public void close() {
-			if(isSubRandomStream){//õܹطˣ
+			if(isSubRandomStream){//从输出流得到的子输入流，不能关服务端；得有输出流来关
 				uc.close();
 			}else{
 				closeHandle(uc, handle);
@@ -119,7 +119,7 @@ public class RemoteFile implements IFile {
 		}
 
 		/**
-		 * ʵread
+		 * 实现read方法
 		 *  
 		 * @return int 
 		 * @throws IOException 
@@ -151,7 +151,7 @@ public class RemoteFile implements IFile {
 				return bufLen;
 			} else {
 				System.arraycopy(buf, pos, b, off, retCount);
-				if (count == bufSize) { // СڱʾļѾ
+				if (count == bufSize) { // 小于表示文件已经结束
 					remoteRead();
 					if (count == 0) {
 						return retCount == 0 ? -1 : retCount;
@@ -325,7 +325,7 @@ public class RemoteFile implements IFile {
 		}
 		
 		/**
-		 * ȴֱɹ
+		 * 等待锁，直到锁成功
 		 */
 		public boolean lock() throws IOException {
 			Request req = new Request(Request.FILE_LOCK);
@@ -391,18 +391,18 @@ public class RemoteFile implements IFile {
 	}
 
 	/**
-	 * ֱӿٶȡļֽnullʱʾļ
+	 * 直接快速读取文件字节流，返回null时表示文件结束
 	 * 
 	 * @throws Exception
 	 * @return byte[]
 	 */
 	public byte[] directRead() throws Exception {
-		Object obj = directSd.read();// 쳣ʱResponse
+		Object obj = directSd.read();// 服务端异常时，读过来的是Response
 		if (obj instanceof byte[]) {
 			return (byte[]) obj;
 		}
 		Response res;
-		if (obj == null) {// ļnull󣬻иResponse
+		if (obj == null) {// 文件以null正常结束后，还有个Response
 			res = (Response) directSd.read();
 			return null;
 		}
@@ -412,7 +412,7 @@ public class RemoteFile implements IFile {
 	}
 
 	/**
-	 * ʹֱӿٶȡļʱرշ˷
+	 * 使用了直接快速读取文件时关闭服务端服务
 	 * 
 	 * @throws Exception
 	 */
@@ -424,9 +424,9 @@ public class RemoteFile implements IFile {
 	}
 
 	/*
-	 * opttʱĿ¼ΪEnv.getTempPath()partition
-	 * partition=nullʱĿ¼ΪEnv.getMainPath() parent!=nullĿ¼ʱڸĿ¼½
-	 * fileNameĿ¼дļʱԶĿ¼ / public RemoteFile(String host, int port,
+	 * opt含t时父目录为Env.getTempPath()，partition不起作用
+	 * partition=null时父目录为Env.getMainPath() parent!=null且目录不存在时在父亲目录下建
+	 * fileName若含目录则在写文件时自动创建目录 / public RemoteFile(String host, int port,
 	 * String partition, String parent, String fileName, String opt) { if
 	 * (parent != null) { fileName = new File(parent, fileName).getPath(); }
 	 * this.opt = opt; setRemoteFile(host, port, partition, fileName); } /*
@@ -474,7 +474,7 @@ public class RemoteFile implements IFile {
 	}
 
 	/**
-	 * ӷɾǰļ
+	 * 从服务器删除当前文件
 	 * 
 	 * @return boolean
 	 */
@@ -500,7 +500,7 @@ public class RemoteFile implements IFile {
 	}
 
 	/**
-	 * ȡļ
+	 * 获取文件输入流
 	 * 
 	 * @return InputStream
 	 */
@@ -514,18 +514,18 @@ public class RemoteFile implements IFile {
 	}
 
 	/**
-	 * ӶڵҵļȱʡΪд ָһڵʱ
-	 * Ҫø÷ʹôԶļд
+	 * 从多个节点机中找到的文件缺省为不可写， 当仅指定一个节点机时，
+	 * 才需要调用该方法，使得此远程文件可写。
 	 */
 	public void setWritable() {
 		isWritable = true;
 	}
 
 	/**
-	 * ȡļ
+	 * 获取文件输出流
 	 * 
 	 * @param isAppend
-	 *            boolean Ƿ׷
+	 *            boolean 是否追加
 	 * @return OutputStream
 	 */
 	public OutputStream getOutputStream(boolean isAppend) {
@@ -533,7 +533,7 @@ public class RemoteFile implements IFile {
 	}
 
 	/**
-	 * ޸ʱ
+	 * 最近修改时间
 	 * 
 	 * @return long
 	 */
@@ -542,8 +542,8 @@ public class RemoteFile implements IFile {
 	}
 
 	/**
-	 * ƶļ
-	 * δʵ
+	 * 移动文件
+	 * 未实现
 	 * 
 	 * @param path
 	 *            String
@@ -556,8 +556,8 @@ public class RemoteFile implements IFile {
 	}
 
 	/**
-	 * ļ
-	 * δʵ
+	 * 设置文件名称
+	 * 未实现
 	 * @param fileName
 	 *            String
 	 */
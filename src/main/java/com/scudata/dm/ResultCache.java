@@ -0,0 +1,415 @@
+package com.scudata.dm;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import com.scudata.common.ArgumentTokenizer;
+import com.scudata.common.StringUtils;
+import com.scudata.util.Variant;
+
+/**
+ * 脚本计算结果的缓存，用于HTTP服务和JDBC的call语句
+ * 按脚本文件、文件版本和参数值缓存结果，每个脚本可以设置有效期，有效期为0的脚本不缓存
+ * 缓存占用的内存超过上限时淘汰最久没有使用的结果，同样的请求同时到达时只计算一次，其它请求等待共用结果
+ * 有效期可以用系统属性esproc.resultcache.ttl设置，格式为“脚本:秒数,...”，脚本写成*表示缺省有效期
+ * @author RunQian
+ *
+ */
+public class ResultCache {
+	private static ResultCache resultCache = new ResultCache();
+
+	/**
+	 * 结果的计算者，缓存里没有时调用
+	 */
+	public interface Loader {
+		/**
+		 * 计算结果
+		 * @return 结果
+		 * @throws Exception
+		 */
+		Object load() throws Exception;
+
+		/**
+		 * 估算结果占用的内存
+		 * @param value load返回的结果
+		 * @return 字节数，小于0表示结果不能缓存，比如游标
+		 */
+		long sizeOf(Object value);
+	}
+
+	// 缓存的结果
+	private static class Entry {
+		private Object value;
+		private long size; // 估计占用的内存
+		private long expireTime; // 过期的时间
+	}
+
+	// 正在计算的请求，同样的请求等待它的结果
+	private static class Loading {
+		private Object value;
+		private Throwable error;
+		private boolean isShared; // 结果是否可以共用
+		private boolean isDone;
+	}
+
+	private volatile long defaultTTL = 0; // 缺省的有效期，毫秒
+	private HashMap<String, Long> ttlMap = new HashMap<String, Long>(); // 脚本的有效期
+	private volatile long maxCacheBytes = 64L * 1024 * 1024; // 缓存占用内存的上限
+
+	// 按访问顺序排列的缓存结果，最久没有使用的在前面
+	private LinkedHashMap<String, Entry> entryMap = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+	private HashMap<String, Loading> loadingMap = new HashMap<String, Loading>();
+	private long totalBytes = 0; // 缓存的结果估计占用的内存
+
+	private long hitCount = 0; // 从缓存取到结果的次数
+	private long missCount = 0; // 计算结果的次数
+	private long waitCount = 0; // 等待同样的请求计算的次数
+	private long evictCount = 0; // 因为超过内存上限或过期淘汰的结果数
+
+	private ResultCache() {
+		String ttl = System.getProperty("esproc.resultcache.ttl");
+		if (StringUtils.isValidString(ttl)) {
+			setTTL(ttl);
+		}
+
+		String size = System.getProperty("esproc.resultcache.size");
+		if (StringUtils.isValidString(size)) {
+			maxCacheBytes = Long.parseLong(size.trim()) * 1024 * 1024;
+		}
+	}
+
+	/**
+	 * 取结果缓存实例
+	 * @return ResultCache
+	 */
+	public static ResultCache getInstance() {
+		return resultCache;
+	}
+
+	/**
+	 * 设置缓存占用内存的上限
+	 * @param bytes 字节数
+	 */
+	public void setMaxCacheBytes(long bytes) {
+		maxCacheBytes = bytes;
+		synchronized(this) {
+			evict();
+		}
+	}
+
+	/**
+	 * 取缓存占用内存的上限
+	 * @return 字节数
+	 */
+	public long getMaxCacheBytes() {
+		return maxCacheBytes;
+	}
+
+	/**
+	 * 设置缺省的有效期，没有单独设置有效期的脚本使用
+	 * @param ttl 毫秒数，0表示不缓存
+	 */
+	public void setDefaultTTL(long ttl) {
+		defaultTTL = ttl;
+	}
+
+	/**
+	 * 设置脚本结果的有效期
+	 * @param script 脚本文件名，可以省略扩展名
+	 * @param ttl 毫秒数，0表示不缓存
+	 */
+	public void setTTL(String script, long ttl) {
+		synchronized(ttlMap) {
+			ttlMap.put(normalize(script), ttl);
+		}
+	}
+
+	/**
+	 * 按“脚本:秒数,...”格式的串设置有效期，脚本写成*表示缺省有效期
+	 * @param ttls 有效期串
+	 */
+	public void setTTL(String ttls) {
+		ArgumentTokenizer at = new ArgumentTokenizer(ttls, ',');
+		while (at.hasMoreTokens()) {
+			String item = at.nextToken().trim();
+			int pos = item.lastIndexOf(':');
+			if (pos < 0) {
+				continue;
+			}
+
+			String script = item.substring(0, pos).trim();
+			long ttl = Long.parseLong(item.substring(pos + 1).trim()) * 1000;
+			if (script.equals("*")) {
+				defaultTTL = ttl;
+			} else {
+				setTTL(script, ttl);
+			}
+		}
+	}
+
+	/**
+	 * 取脚本结果的有效期，先按文件名找，找不到再按去掉扩展名的文件名找，都没有设置时返回缺省有效期
+	 * @param script 脚本文件名
+	 * @return 毫秒数，0表示不缓存
+	 */
+	public long getTTL(String script) {
+		if (script == null) {
+			return 0;
+		}
+
+		script = normalize(script);
+		synchronized(ttlMap) {
+			if (ttlMap.size() > 0) {
+				Long ttl = ttlMap.get(script);
+				if (ttl == null) {
+					int pos = script.lastIndexOf('.');
+					if (pos > script.lastIndexOf('/')) {
+						ttl = ttlMap.get(script.substring(0, pos));
+					}
+				}
+
+				if (ttl != null) {
+					return ttl;
+				}
+			}
+		}
+
+		return defaultTTL;
+	}
+
+	private static String normalize(String script) {
+		script = script.trim().replace('\\', '/');
+		while (script.startsWith("/")) {
+			script = script.substring(1);
+		}
+
+		return script;
+	}
+
+	/**
+	 * 取文件的版本，修改时间或大小变了后版本也变
+	 * @param fo 文件对象
+	 * @return 版本串，文件不存在时返回空
+	 */
+	public static String getVersion(FileObject fo) {
+		Timestamp time = fo.lastModified();
+		if (time == null) {
+			return null;
+		}
+
+		return time.getTime() + ":" + fo.size();
+	}
+
+	/**
+	 * 把参数值转成缓存键的一部分，值相等的参数产生相同的串
+	 * @param args 参数值
+	 * @return String
+	 */
+	public static String toKey(Object []args) {
+		StringBuffer sb = new StringBuffer();
+		sb.append('(');
+		if (args != null) {
+			for (int i = 0; i < args.length; ++i) {
+				if (i > 0) {
+					sb.append(',');
+				}
+
+				Object arg = args[i];
+				if (arg == null) {
+					sb.append("null");
+				} else if (arg instanceof Sequence) {
+					sb.append(toKey(((Sequence)arg).toArray()));
+				} else {
+					String str = Variant.toString(arg);
+					sb.append(arg.getClass().getSimpleName()).append(':');
+					sb.append(str.length()).append(':').append(str);
+				}
+			}
+		}
+
+		sb.append(')');
+		return sb.toString();
+	}
+
+	/**
+	 * 取缓存的结果，没有或者已过期时调用计算者计算，可以缓存的结果放入缓存
+	 * 同样的请求正在计算时等待它的结果，结果不能共用时自己再计算
+	 * @param key 缓存键，由脚本文件、文件版本和参数组成
+	 * @param ttl 有效期，毫秒
+	 * @param loader 计算者
+	 * @return 结果
+	 * @throws Exception 计算出错时抛出异常，等待的请求抛出同样的异常
+	 */
+	public Object get(String key, long ttl, Loader loader) throws Exception {
+		Loading loading;
+		boolean isLoader = false;
+		synchronized(this) {
+			Entry entry = entryMap.get(key);
+			if (entry != null) {
+				if (entry.expireTime > System.currentTimeMillis()) {
+					hitCount++;
+					return entry.value;
+				}
+
+				entryMap.remove(key);
+				totalBytes -= entry.size;
+				evictCount++;
+			}
+
+			loading = loadingMap.get(key);
+			if (loading == null) {
+				loading = new Loading();
+				loadingMap.put(key, loading);
+				isLoader = true;
+				missCount++;
+			} else {
+				waitCount++;
+			}
+		}
+
+		if (isLoader) {
+			return load(key, ttl, loader, loading);
+		}
+
+		synchronized(loading) {
+			while (!loading.isDone) {
+				loading.wait();
+			}
+		}
+
+		if (loading.error != null) {
+			throwError(loading.error);
+		}
+
+		if (loading.isShared) {
+			return loading.value;
+		} else {
+			// 结果不能共用，比如游标只能读一次
+			return loader.load();
+		}
+	}
+
+	private Object load(String key, long ttl, Loader loader, Loading loading) throws Exception {
+		Object value = null;
+		long size = -1;
+		try {
+			value = loader.load();
+			size = loader.sizeOf(value);
+			loading.value = value;
+			loading.isShared = size >= 0;
+			return value;
+		} catch (Throwable e) {
+			loading.error = e;
+			throwError(e);
+			return null;
+		} finally {
+			synchronized(this) {
+				loadingMap.remove(key);
+				if (loading.error == null && size >= 0 && ttl > 0 && size <= maxCacheBytes) {
+					Entry entry = new Entry();
+					entry.value = value;
+					entry.size = size;
+					entry.expireTime = System.currentTimeMillis() + ttl;
+
+					Entry old = entryMap.put(key, entry);
+					if (old != null) {
+						totalBytes -= old.size;
+					}
+
+					totalBytes += size;
+					evict();
+				}
+			}
+
+			synchronized(loading) {
+				loading.isDone = true;
+				loading.notifyAll();
+			}
+		}
+	}
+
+	private static void throwError(Throwable e) throws Exception {
+		if (e instanceof Exception) {
+			throw (Exception)e;
+		} else {
+			throw (Error)e;
+		}
+	}
+
+	// 淘汰过期的结果，内存还超过上限时按访问顺序淘汰，需在同步块内调用
+	private void evict() {
+		long limit = maxCacheBytes;
+		if (totalBytes <= limit) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		Iterator<Entry> itr = entryMap.values().iterator();
+		while (itr.hasNext()) {
+			Entry entry = itr.next();
+			if (entry.expireTime <= now) {
+				itr.remove();
+				totalBytes -= entry.size;
+				evictCount++;
+			}
+		}
+
+		itr = entryMap.values().iterator();
+		while (totalBytes > limit && itr.hasNext()) {
+			Entry entry = itr.next();
+			itr.remove();
+			totalBytes -= entry.size;
+			evictCount++;
+		}
+	}
+
+	/**
+	 * 清除缓存的结果
+	 */
+	public synchronized void clear() {
+		entryMap.clear();
+		totalBytes = 0;
+	}
+
+	/**
+	 * 取从缓存取到结果的次数
+	 * @return long
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * 取计算结果的次数
+	 * @return long
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * 取等待同样的请求计算结果的次数
+	 * @return long
+	 */
+	public synchronized long getWaitCount() {
+		return waitCount;
+	}
+
+	/**
+	 * 取因为超过内存上限或过期被淘汰的结果数
+	 * @return long
+	 */
+	public synchronized long getEvictCount() {
+		return evictCount;
+	}
+
+	/**
+	 * 取缓存估计占用的内存
+	 * @return 字节数
+	 */
+	public synchronized long getCacheBytes() {
+		return totalBytes;
+	}
+}
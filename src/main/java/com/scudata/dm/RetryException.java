@@ -1,7 +1,7 @@
 package com.scudata.dm;
 
 /**
- * ҵҪʱ׳쳣
+ * 作业出错需要重算时，抛出该异常
  * @author Joancy
  *
  */
@@ -9,31 +9,31 @@ public class RetryException extends RuntimeException {
 	private static final long serialVersionUID = -1177620135140049645L;
 
 	/**
-	 * չ캯
+	 * 空构造函数
 	 */
 	public RetryException() {
 	}
 
 	/**
-	 * 캯
-	 * @param msg ԭ
+	 * 构造函数
+	 * @param msg 出错原因
 	 */
 	public RetryException(String msg) {
 		super(msg);
 	}
 
 	/**
-	 * 캯
-	 * @param msg ԭ
-	 * @param cause 쳣
+	 * 构造函数
+	 * @param msg 出错原因
+	 * @param cause 引起错误的异常
 	 */
 	public RetryException(String msg, Throwable cause) {
 		super(msg, cause);
 	}
 
 	/**
-	 * 캯
-	 * @param cause 쳣
+	 * 构造函数
+	 * @param cause 引起错误的异常
 	 */
 	public RetryException(Throwable cause) {
 		super(cause);
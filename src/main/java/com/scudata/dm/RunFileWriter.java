@@ -0,0 +1,181 @@
+package com.scudata.dm;
+
+import java.io.IOException;
+
+import com.scudata.common.RQException;
+import com.scudata.dw.BufferWriter;
+import com.scudata.dw.LZ4Util;
+import com.scudata.dw.StructManager;
+
+/**
+ * 外存排序的临时文件写对象，数据按列存储并用LZ4压缩
+ * 写入的每一行是一个数组，前面是排序字段值，最后一个元素是记录，归并时可以直接比较排序字段值
+ * 文件由若干块组成，块内先写各排序字段列再写记录的各字段列，相邻的相同值只写一次
+ * 块格式：记录数、压缩前长度、压缩后长度、压缩后的数据，记录数为0表示文件结束
+ * @author RunQian
+ *
+ */
+public class RunFileWriter {
+	public static final int BLOCK_RECORD_COUNT = 4096; // 每块的记录数
+
+	private FileObject file; // 临时文件
+	private DataStruct ds; // 记录的数据结构
+	private int keyCount; // 排序字段数
+	private StructManager structManager = new StructManager(); // 字段值中的记录的数据结构
+
+	private ObjectWriter writer;
+	private BufferWriter bufferWriter;
+	private byte []compressBuffer; // 压缩缓冲区
+	private Object [][]rows = new Object[BLOCK_RECORD_COUNT][]; // 还没写出的行
+	private int count; // 还没写出的行数
+	private long totalCount; // 总行数
+
+	/**
+	 * 构建临时文件写对象
+	 * @param file 临时文件
+	 * @param ds 记录的数据结构
+	 * @param keyCount 排序字段数
+	 */
+	public RunFileWriter(FileObject file, DataStruct ds, int keyCount) {
+		this.file = file;
+		this.ds = ds;
+		this.keyCount = keyCount;
+		writer = new ObjectWriter(file.getOutputStream(false), Env.getFileBufSize());
+		bufferWriter = new BufferWriter(structManager);
+	}
+
+	/**
+	 * 返回临时文件
+	 * @return FileObject
+	 */
+	public FileObject getFile() {
+		return file;
+	}
+
+	/**
+	 * 返回记录的数据结构
+	 * @return DataStruct
+	 */
+	public DataStruct getDataStruct() {
+		return ds;
+	}
+
+	/**
+	 * 返回排序字段数
+	 * @return int
+	 */
+	public int getKeyCount() {
+		return keyCount;
+	}
+
+	/**
+	 * 返回字段值中的记录的数据结构管理器，读文件时使用
+	 * @return StructManager
+	 */
+	public StructManager getStructManager() {
+		return structManager;
+	}
+
+	/**
+	 * 返回写出的总行数
+	 * @return long
+	 */
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * 写出一行，需要按排序字段值有序写入
+	 * @param row 排序字段值和记录组成的数组
+	 */
+	public void write(Object []row) {
+		rows[count++] = row;
+		if (count == BLOCK_RECORD_COUNT) {
+			writeBlock();
+		}
+	}
+
+	// 把缓存的行按列写出
+	private void writeBlock() {
+		Object [][]rows = this.rows;
+		int count = this.count;
+		int keyCount = this.keyCount;
+		int fcount = ds.getFieldCount();
+		BufferWriter bufferWriter = this.bufferWriter;
+
+		try {
+			for (int k = 0; k < keyCount; ++k) {
+				for (int i = 0; i < count; ++i) {
+					bufferWriter.writeObject(rows[i][k]);
+				}
+			}
+
+			for (int f = 0; f < fcount; ++f) {
+				for (int i = 0; i < count; ++i) {
+					BaseRecord r = (BaseRecord)rows[i][keyCount];
+					bufferWriter.writeObject(r.getNormalFieldValue(f));
+				}
+			}
+
+			byte []bytes = bufferWriter.finish();
+			LZ4Util lz4 = LZ4Util.instance();
+			compressBuffer = LZ4Util.ensureCapacity(compressBuffer, lz4.maxCompressedLength(bytes.length));
+			int len = lz4.compress(bytes, compressBuffer);
+
+			writer.writeInt32(count);
+			writer.writeInt32(bytes.length);
+			writer.writeInt32(len);
+			writer.write(compressBuffer, 0, len);
+		} catch (IOException e) {
+			throw new RQException(e.getMessage(), e);
+		}
+
+		for (int i = 0; i < count; ++i) {
+			rows[i] = null;
+		}
+
+		totalCount += count;
+		this.count = 0;
+	}
+
+	/**
+	 * 写完缓存的数据并关闭文件
+	 */
+	public void close() {
+		if (writer == null) {
+			return;
+		}
+
+		try {
+			if (count > 0) {
+				writeBlock();
+			}
+
+			writer.writeInt32(0);
+			writer.close();
+		} catch (IOException e) {
+			throw new RQException(e.getMessage(), e);
+		} finally {
+			writer = null;
+			bufferWriter = null;
+			compressBuffer = null;
+			rows = null;
+		}
+	}
+
+	/**
+	 * 出错时关闭并删除临时文件
+	 */
+	public void delete() {
+		if (writer != null) {
+			try {
+				writer.close();
+			} catch (IOException e) {
+			}
+
+			writer = null;
+		}
+
+		file.delete();
+	}
+}
@@ -7,12 +7,12 @@ import com.scudata.common.RQException;
 import com.scudata.resources.EngineMessage;
 
 /**
- * żֵǼ¼άе
+ * 用于序号键的索引，外键值是记录在维表中的序号
  * @author RunQian
  *
  */
 public class SeqIndexTable extends IndexTable {
-	private Sequence code; // ά
+	private Sequence code; // 维表
 	private int len;
 	
 	public SeqIndexTable(Sequence code) {
@@ -21,9 +21,9 @@ public class SeqIndexTable extends IndexTable {
 	}
 	
 	/**
-	 * ź
-	 * @param code ά
-	 * @param field ֶε
+	 * 构建排号索引
+	 * @param code 维表
+	 * @param field 序号字段的索引
 	 */
 	public SeqIndexTable(Sequence code, int field) {
 		int len = code.length();
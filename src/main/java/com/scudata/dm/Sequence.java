@@ -66,29 +66,29 @@ import com.scudata.util.MinHeap;
 import com.scudata.util.Variant;
 
 /**
- * ࣬ԪŴ1ʼ
+ * 序列类，元素序号从1开始计数
  * @author WangXiaoJun
  *
  */
 public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	private static final long serialVersionUID = 0x02010003;
-	protected IArray mems; // гԱ
+	protected IArray mems; // 序列成员
 
-	private static final char SEPARATOR = ','; // toStringʱԪطָ
+	private static final char SEPARATOR = ','; // toString时序列元素分隔符
 	private static final char STARTSYMBOL = '[';
 	private static final char ENDSYMBOL = ']';
-	private static final int SORT_HASH_LEN = 700; // Сڴֵidgrouphash
+	private static final int SORT_HASH_LEN = 700; // 当长度小于次数值是id、group用排序来做，否则用hash
 
 	/**
-	 * һ
+	 * 创建一个空序列
 	 */
 	public Sequence() {
 		mems = new ObjectArray(8);
 	}
 
 	/**
-	 * һ
-	 * @param createArray ǷIArray
+	 * 创建一个空序列
+	 * @param createArray 是否产生IArray
 	 */
 	protected Sequence(boolean createArray) {
 		if (createArray) {
@@ -97,16 +97,16 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * һָ
-	 * @param initialCapacity int 
+	 * 创建一个指定容量的序列
+	 * @param initialCapacity int 容量
 	 */
 	public Sequence(int initialCapacity) {
 		mems = new ObjectArray(initialCapacity);
 	}
 
 	/**
-	 * һָԱɵ
-	 * @param v Ա
+	 * 创建一个由指定成员构成的序列
+	 * @param v 成员数组
 	 */
 	public Sequence(Object[] v) {
 		if (v == null) {
@@ -117,7 +117,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * һУӵԼĳԱ
+	 * 复制一个序列，新序列拥有自己的成员
 	 * @param seq Sequence
 	 */
 	public Sequence(Sequence seq) {
@@ -137,9 +137,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * һ䣬startendһݼ
-	 * @param start int ʼֵ
-	 * @param end int ֵ
+	 * 构造一个数列区间，如果start大于end则构造一个递减的数列区间
+	 * @param start int 起始值
+	 * @param end int 结束值
 	 */
 	public Sequence(int start, int end) {
 		if (start < end) {
@@ -158,9 +158,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ֵָ
-	 * @param start ʼֵ
-	 * @param end ֵ
+	 * 用指定区间的值构建序列
+	 * @param start 起始值，包含
+	 * @param end 结束值，包含
 	 */
 	public Sequence(long start, long end) {
 		if (start < end) {
@@ -191,7 +191,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ȡеĳԱбڱŻ
+	 * 取序列的成员列表，用于遍历性能优化
 	 * @return
 	 */
 	public IArray getMems() {
@@ -199,7 +199,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡеǰԱɵ飬~ļ
+	 * 取序列当前成员组成的数组，用于~的计算
 	 * @return
 	 */
 	public IArray getCurrentMems() {
@@ -207,8 +207,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еĳԱ
-	 * @param mems Ա
+	 * 设置序列的成员数组
+	 * @param mems 成员数组
 	 */
 	public void setMems(IArray mems) {
 		this.mems = mems;
@@ -216,7 +216,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еĹϣֵ
+	 * 返回序列的哈希值
 	 */
 	public int hashCode() {
 		IArray mems = getMems();
@@ -234,15 +234,15 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹеСminCapacity
-	 * @param minCapacity С
+	 * 使序列的容量不小于minCapacity
+	 * @param minCapacity 最小容量
 	 */
 	public void ensureCapacity(int minCapacity) {
 		getMems().ensureCapacity(minCapacity);
 	}
 
 	/**
-	 * Ԫ״γֵλã򷵻0
+	 * 返回元素首次出现的位置，如果不存在则返回0
 	 * @param obj Object
 	 * @return int
 	 */
@@ -251,7 +251,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * Ԫֵλã򷵻0
+	 * 返回元素最后出现的位置，如果不存在则返回0
 	 * @param obj Object
 	 * @return int
 	 */
@@ -260,7 +260,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еĳԱֻͨݣܰ¼
+	 * 序列的成员只能是普通的数据，不能包含记录
 	 * @throws IOException
 	 * @return byte[]
 	 */
@@ -278,7 +278,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еĳԱֻͨݣܰ¼
+	 * 序列的成员只能是普通的数据，不能包含记录
 	 * @param buf byte[]
 	 * @throws IOException
 	 * @throws ClassNotFoundException
@@ -295,12 +295,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	public void writeExternal(ObjectOutput out) throws IOException {
-		out.writeByte(1); // 汾
+		out.writeByte(1); // 版本号
 		out.writeObject(getMems());
 	}
 
 	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-		in.readByte(); // 汾
+		in.readByte(); // 版本号
 		Object obj = in.readObject();
 		if (obj instanceof IArray) {
 			mems = (IArray)obj;
@@ -311,29 +311,29 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ɾеĳԱҵ
+	 * 删除所有的成员，并且调整容量
 	 */
 	public void reset() {
 		getMems().clear();
 	}
 
 	/**
-	 * ɾеĳԱ
+	 * 删除所有的成员
 	 */
 	public void clear() {
 		getMems().clear();
 	}
 
 	/**
-	 * еʹԪ
+	 * 调整序列的容量，使其与元素数相等
 	 */
 	public void trimToSize() {
 		getMems().trimToSize();
 	}
 
 	/**
-	 * ת
-	 * @param c int 
+	 * 转置
+	 * @param c int 列数
 	 * @return Sequence
 	 */
 	public Sequence transpose(int c) {
@@ -363,7 +363,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * Ԫظ
+	 * 返回序列元素个数
 	 * @return int
 	 */
 	public int length() {
@@ -371,7 +371,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ȡзǿԪظ
+	 * 取序列非空元素个数
 	 * @param opt String
 	 * @return int
 	 */
@@ -380,9 +380,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ÿintervalȡseqsָԪ
-	 * @param interval int 
-	 * @param seqs int[] Ԫ
+	 * 每隔interval距离取seqs指定的元素
+	 * @param interval int 间隔
+	 * @param seqs int[] 元素索引
 	 * @return Sequence
 	 */
 	public Sequence step(int interval, int[] seqs) {
@@ -393,7 +393,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		
 		int count = seqs.length;
 		for (int i = 0; i < count; ++i) {
-			// ټǷintervalˣǰ
+			// 不再检查是否比interval大了，这样可以跳过前面的
 			if (seqs[i] < 1) { // || seqs[i] > interval
 				MessageManager mm = EngineMessage.get();
 				throw new RQException(seqs[i] + mm.getMessage("engine.indexOutofBound"));
@@ -422,9 +422,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ȡʹʽΪԪظ
-	 * @param exp ʽ
-	 * @param ctx 
+	 * 取序列使表达式为真的元素个数
+	 * @param exp 表达式
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public int count(Expression exp, Context ctx) {
@@ -455,15 +455,15 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еԪ
-	 * @return Ԫֵɵ
+	 * 返回所有的元素
+	 * @return 元素值组成的数组
 	 */
 	public Object[] toArray() {
 		return getMems().toArray();
 	}
 
 	/**
-	 * Ԫθaa
+	 * 把元素依次赋给a，并返回a
 	 * @param a Object[]
 	 * @return Object[]
 	 */
@@ -473,8 +473,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ȡĳһԪ
-	 * @param seq int 1ʼ
+	 * 取得某一元素
+	 * @param seq int 从1开始计数
 	 * @return Object
 	 */
 	public Object get(int seq) {
@@ -487,8 +487,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡĳһԪأźϷ
-	 * @param seq int 1ʼ
+	 * 取得某一元素，不做检查序号合法性
+	 * @param seq int 从1开始计数
 	 * @return Object
 	 */
 	public Object getMem(int seq) {
@@ -496,18 +496,18 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ȡĳһ
-	 * @param start int ʼλã
-	 * @param end int λã
-	 * @return Sequence 
+	 * 取某一区段
+	 * @param start int 起始位置（包括）
+	 * @param end int 结束位置（不包括）
+	 * @return Sequence 结果序列
 	 */
 	public Sequence get(int start, int end) {
 		return new Sequence(getMems().get(start, end));
 	}
 	
 	/**
-	 * ضԪ
-	 * @param seq Sequence ԪλùɵУԪֵеĳ
+	 * 返回多个元素
+	 * @param seq Sequence 元素位置构成的数列，元素值不大于序列的长度
 	 * @return Sequence
 	 */
 	public Sequence get(Sequence seq) {
@@ -521,9 +521,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ǷĳһԪ
-	 * @param obj Object Ԫֵ
-	 * @param isSorted boolean򣬽öֲ
+	 * 是否包含某一元素
+	 * @param obj Object 元素值
+	 * @param isSorted boolean：序列有序，将采用二分查找
 	 * @return boolean
 	 */
 	public boolean contains(Object obj, boolean isSorted) {
@@ -534,16 +534,16 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 	/**
-	 * жԪǷڵǰ
-	 * @param isSorted ǰǷ
-	 * @param array 
-	 * @param result ڴŽֻȡֵΪtrue
+	 * 判断数组的元素是否在当前数组中
+	 * @param isSorted 当前数组是否有序
+	 * @param array 数组
+	 * @param result 用于存放结果，只找取值为true的
 	 */
 	public void contains(boolean isSorted, IArray array, BoolArray result) {
 		getMems().contains(isSorted, array, result);
 	}
 
-	// Ƿs
+	// 返回是否是数列区间s
 	private boolean isIntInterval() {
 		IArray mems = getMems();
 		int size = mems.size();
@@ -567,7 +567,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		int prev = ((Number)obj2).intValue();
 		int dif = prev - ((Number)obj1).intValue();
 
-		if (dif == 1) { // 
+		if (dif == 1) { // 递增
 			for (int i = 3; i <= size; ++i) {
 				Object obj = mems.get(i);
 				if (!(obj instanceof Number)) {
@@ -579,7 +579,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					return false;
 				}
 			}
-		} else if (dif == -1) { // ݼ
+		} else if (dif == -1) { // 递减
 			for (int i = 3; i <= size; ++i) {
 				Object obj = mems.get(i);
 				if (!(obj instanceof Number)) {
@@ -591,7 +591,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					return false;
 				}
 			}
-		} else if (dif == 0) { // ֻһ
+		} else if (dif == 0) { // 区间内只有一个数
 			if (size != 2) {
 				return false;
 			}
@@ -602,7 +602,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		return true;
 	}
 
-	// Ƿnû
+	// 返回序列是否是n置换
 	private boolean isPermutation(int n) {
 		IArray mems = getMems();
 		int len = mems.size();
@@ -615,7 +615,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				return false;
 			}
 
-			// [1n]ΧڣظԪ
+			// 索引不在[1，n]范围内，或存在重复的元素
 			int tmp = ( (Number) obj).intValue();
 			if (tmp < 1 || tmp > n || sign[tmp]) {
 				return false;
@@ -628,7 +628,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * Ƿм¼
+	 * 返回序列是否含有记录
 	 * @return boolean
 	 */
 	public boolean hasRecord() {
@@ -636,23 +636,23 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * صǰǷ
-	 * @return boolean trueУfalse
+	 * 返回当前序列是否是排列
+	 * @return boolean true：是排列，false：非排列
 	 */
 	public boolean isPmt() {
 		return getMems().isPmt(false);
 	}
 
 	/**
-	 * صǰǷǴ
-	 * @return boolean trueǴУṹͬ
+	 * 返回当前序列是否是纯排列
+	 * @return boolean true：是纯排列（结构相同）
 	 */
 	public boolean isPurePmt() {
 		return getMems().isPmt(true);
 	}
 
 	/**
-	 * λеУسΪnλ
+	 * 返回位数列的逆序列，返回长度为n的位数列
 	 * @param n int
 	 * @return Sequence
 	 */
@@ -688,9 +688,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * λзתԴ
-	 * @param seq Sequence λ
-	 * @param opt String oıԴ
+	 * 根据位置序列翻转源序列
+	 * @param seq Sequence 位置序列
+	 * @param opt String o：改变源序列
 	 * @return Sequence
 	 */
 	public Sequence inv(Sequence seq, String opt) {
@@ -731,7 +731,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * жseqǷǵǰеû
+	 * 判断seq是否是当前序列的置换列
 	 * @param seq Sequence
 	 * @return boolean
 	 */
@@ -754,13 +754,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			Object obj = mems2.get(t);
 			for (int s = 1; s <= size; ++s) {
 				if (!founds[s] && Variant.isEquals(mems.get(s), obj)) {
-					// ҵѭ
+					// 找到后跳到外层循环继续找
 					founds[s] = true;
 					continue nextCand;
 				}
 			}
 			
-			// ûҵfalse
+			// 没有找到返回false
 			return false;
 		}
 		
@@ -768,7 +768,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еķת
+	 * 返回序列的反转序列
 	 * @return Sequence
 	 */
 	public Sequence rvs() {
@@ -776,8 +776,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹеĲΪеnû
-	 * @param opt String z
+	 * 返回使此序列的产生列为递增列的n置换
+	 * @param opt String z：降序
 	 * @return Sequence
 	 */
 	public Sequence psort(String opt) {
@@ -806,7 +806,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			comparator = new BaseComparator();
 		}
 		
-		// 
+		// 进行排序
 		MultithreadUtil.sort(infos, 1, len, new PSortComparator(comparator));
 		Sequence result = new Sequence(size);
 		IArray resultMems = result.getMems();
@@ -819,9 +819,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹаʽĲΪеnû
-	 * @param exp Expression ʽ
-	 * @param opt String z
+	 * 返回使此序列按表达式计算结果的产生列为递增列的n置换
+	 * @param exp Expression 计算表达式
+	 * @param opt String z：降序
 	 * @param ctx Context
 	 * @return Sequence
 	 */
@@ -830,9 +830,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹеĲΪеnû
-	 * @param exps Expression[] ʽ
-	 * @param opt String z
+	 * 返回使此序列的产生列为递增列的n置换
+	 * @param exps Expression[] 表达式数组
+	 * @param opt String z：降序
 	 * @param ctx Context
 	 * @return Sequence
 	 */
@@ -897,9 +897,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * նʽͶ˳, nû
-	 * @param exps Expression[] ʽ
-	 * @param orders int[] ˳, 1, -1, 0ԭ
+	 * 按照多表达式和多顺序排序, 返回n置换
+	 * @param exps Expression[] 表达式数组
+	 * @param orders int[] 顺序数组, 1升序, -1降序, 0原序
 	 * @param opt String
 	 * @param ctx Context
 	 * @return Sequence
@@ -958,8 +958,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ɴԪعɵĵ
-	 * @param opt zoıԭ
+	 * 返回由此序列元素构成的递增列
+	 * @param opt z：降序，o：改变原序列
 	 * @return Sequence
 	 */
 	public Sequence sort(String opt) {
@@ -1027,9 +1027,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ɴԪعɵĵ
-	 * @param loc String 
-	 * @param opt zoıԭ
+	 * 返回由此序列元素构成的递增列
+	 * @param loc String 语言
+	 * @param opt z：降序，o：改变原序列
 	 * @return Sequence
 	 */
 	public Sequence sort(String loc, String opt) {
@@ -1156,7 +1156,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			IArray mems = result.getMems();
 			boolean []signs = new boolean[len + 1];
 			
-			// Ԫλڱ䶯Ҫ¼ʽֵ
+			// 元素位置在变动，需要重新计算表达式值
 			for (int c = 0; c <= f; ++c) {
 				valMems[c] = result.calc(exps[c], ctx).getMems();
 			}
@@ -1188,10 +1188,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ԪԴеλ÷صǰеԪء
-	 * @param sequences Դ
-	 * @param vals ҵԪ
-	 * @param opt aԪأbԴ
+	 * 根据元素在源序列中的位置返回当前序列的元素。
+	 * @param sequences 源序列数组
+	 * @param vals 待查找的元素数组
+	 * @param opt a：返回所有满足条件的元素，b：源序列有序
 	 * @return
 	 */
 	public Object lookup(Sequence[] sequences, Object[] vals, String opt) {
@@ -1258,9 +1258,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еĺ()+
+	 * 返回两个序列的和列(连列)+
 	 * @param seq Sequence
-	 * @param bMerge boolean true: ͬù鲢㷨ʵ
+	 * @param bMerge boolean true: 表明两序列同序，用归并算法实现
 	 * @return Sequence
 	 */
 	public Sequence conj(Sequence seq, boolean bMerge) {
@@ -1278,7 +1278,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		IArray resultMems = result.getMems();
 
 		if (bMerge) {
-			// 鲢
+			// 归并两个序列
 			int s = 1, t = 1;
 			while (s <= len && t <= len2) {
 				Object obj = mems.get(s);
@@ -1292,7 +1292,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				}
 			}
 
-			// ʣԪӵ
+			// 将剩余的元素添加到序列中
 			while (s <= len) {
 				resultMems.add(mems.get(s));
 				s++;
@@ -1311,9 +1311,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еĲ-
+	 * 返回两个序列的差列-
 	 * @param seq Sequence
-	 * @param bMerge boolean true: ͬù鲢㷨ʵ
+	 * @param bMerge boolean true: 表明两序列同序，用归并算法实现
 	 * @return Sequence
 	 */
 	public Sequence diff(Sequence seq, boolean bMerge) {
@@ -1332,7 +1332,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		Sequence result = new Sequence(len);
 		IArray resultMems = result.getMems();
 
-		// 鲢
+		// 归并法插入
 		int s = 1, t = 1;
 		while (s <= len && t <= len2) {
 			Object obj = mems.get(s);
@@ -1348,7 +1348,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 		}
 
-		// ʣԪضûseq
+		// 剩余的元素都没在seq中
 		while (s <= len) {
 			resultMems.add(mems.get(s));
 			s++;
@@ -1358,9 +1358,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еĽ
+	 * 返回两个序列的交列
 	 * @param seq Sequence
-	 * @param bMerge boolean true: ͬù鲢㷨ʵ
+	 * @param bMerge boolean true: 表明两序列同序，用归并算法实现
 	 * @return Sequence
 	 */
 	public Sequence isect(Sequence seq, boolean bMerge) {
@@ -1379,7 +1379,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		Sequence result = new Sequence(len > len2 ? len2 : len);
 		IArray resultMems = result.getMems();
 
-		// 鲢
+		// 归并法插入
 		int s = 1, t = 1;
 		while (s <= len && t <= len2) {
 			Object obj = mems.get(s);
@@ -1399,9 +1399,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еĲ
+	 * 返回两个序列的并列
 	 * @param seq Sequence
-	 * @param bMerge boolean true: ͬù鲢㷨ʵ
+	 * @param bMerge boolean true: 表明两序列同序，用归并算法实现
 	 * @return Sequence
 	 */
 	public Sequence union(Sequence seq, boolean bMerge) {
@@ -1420,7 +1420,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		Sequence result = new Sequence(len + len2);
 		IArray resultMems = result.getMems();
 
-		// 鲢
+		// 归并法插入
 		int s = 1, t = 1;
 		while (s <= len && t <= len2) {
 			Object obj = mems.get(s);
@@ -1439,7 +1439,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 		}
 
-		// ʣԪӵ
+		// 将剩余的元素添加到序列中
 		while (s <= len) {
 			resultMems.add(mems.get(s));
 			s++;
@@ -1501,7 +1501,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				resultList.addAll(list2);
 				resultList.addAll(list1);
 			} else {
-				// 鲢
+				// 归并两个序列
 				int s1 = 1, s2 = 1;
 				while (s1 <= len1 && s2 <= len2) {
 					Object obj1 = list1.get(s1);
@@ -1522,7 +1522,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					}
 				}
 
-				// ʣԪӵ
+				// 将剩余的元素添加到序列中
 				for (; s1 <= len1; ++s1) {
 					resultList.add(list1.get(s1));
 				}
@@ -1534,10 +1534,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 			return result;
 		} else {
-			// Ż
-			Object []itemVals = new Object[count]; // еĵǰԪ
-			int []items = new int[count]; // еĵǰԪشС
-			int []index = new int[count]; // еĵǰλ
+			// 败者树优化？
+			Object []itemVals = new Object[count]; // 序列的当前元素
+			int []items = new int[count]; // 序列的当前元素从小到大的索引
+			int []index = new int[count]; // 序列的当前位置
 
 			Next:
 			for (int i = 0; i < count; ++i) {
@@ -1653,7 +1653,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				resultList.addAll(list2);
 				resultList.addAll(list1);
 			} else {
-				// 鲢
+				// 归并两个序列
 				int s1 = 1, s2 = 1;
 				while (s1 <= len1 && s2 <= len2) {
 					Object obj1 = valueList1.get(s1);
@@ -1674,7 +1674,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					}
 				}
 
-				// ʣԪӵ
+				// 将剩余的元素添加到序列中
 				for (; s1 <= len1; ++s1) {
 					resultList.add(list1.get(s1));
 				}
@@ -1686,10 +1686,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 			return result;
 		} else {
-			// Ż
-			Object []itemVals = new Object[count]; // еĵǰԪ
-			int []items = new int[count]; // еĵǰԪشС
-			int []index = new int[count]; // еĵǰλ
+			// 败者树优化？
+			Object []itemVals = new Object[count]; // 序列的当前元素
+			int []items = new int[count]; // 序列的当前元素从小到大的索引
+			int []index = new int[count]; // 序列的当前位置
 
 			Next:
 			for (int i = 0; i < count; ++i) {
@@ -1816,7 +1816,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				return result;
 			}
 
-			// 鲢
+			// 归并两个序列
 			sequences[1].calc(1, exps, ctx, values2);
 			int s1 = 1, s2 = 1;
 			while (true) {
@@ -1847,7 +1847,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				}
 			}
 
-			// ʣԪӵ
+			// 将剩余的元素添加到序列中
 			for (; s1 <= len1; ++s1) {
 				resultList.add(list1.get(s1));
 			}
@@ -1858,10 +1858,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			
 			return result;
 		} else {
-			// Ż
-			Object [][]itemVals = new Object[count][]; // еĵǰԪ
-			int []items = new int[count]; // еĵǰԪشС
-			int []index = new int[count]; // еĵǰλ
+			// 败者树优化？
+			Object [][]itemVals = new Object[count][]; // 序列的当前元素
+			int []items = new int[count]; // 序列的当前元素从小到大的索引
+			int []index = new int[count]; // 序列的当前位置
 
 			Next:
 			for (int i = 0; i < count; ++i) {
@@ -1928,7 +1928,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 
-	// ֵϲԴУֵ
+	// 根据值序列来合并源序列，值序列有序
 	private static Sequence mergeUnion(Sequence[] sources, Sequence[] values) {
 		int count = values.length;
 		int leaveCount = count;
@@ -2003,7 +2003,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		return result;
 	}
 
-	// ֵϲԴУֵ
+	// 根据值序列来合并源序列，值序列有序
 	private static Sequence mergeIsect(Sequence[] sources, Sequence[] values) {
 		int count = values.length;
 		int[] len = new int[count];
@@ -2057,7 +2057,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		return result;
 	}
 
-	// ֵϲԴУֵ
+	// 根据值序列来合并源序列，值序列有序
 	private static Sequence mergeDiff(Sequence[] sources, Sequence[] values) {
 		int count = values.length;
 		int[] len = new int[count];
@@ -2102,9 +2102,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ϲеԪأԪΪУҰʽ
-	 * @param exps Expression[] ʽԪֵϲ
-	 * @param opt String u󲢣i󽻣dĬΪ
+	 * 合并序列的元素，序列元素为序列，且按表达式有序
+	 * @param exps Expression[] 表达式，如果空则按照序列元素值或主键合并
+	 * @param opt String u：求并，i：求交，d：求差，默认为链接
 	 * @param ctx Context
 	 * @return Sequence
 	 */
@@ -2210,7 +2210,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ȽǷ
+	 * 比较两序列是否相等
 	 * @param seq Sequence
 	 * @return boolean
 	 */
@@ -2238,9 +2238,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȽеĴС
+	 * 比较两序列的大小
 	 * @param seq Sequence
-	 * @return 1ǰд0ȣ-1ǰС
+	 * @return 1：当前序列大，0：两个序列相等，-1：当前序列小
 	 */
 	public int compareTo(Sequence other) {
 		if (other == this) {
@@ -2253,10 +2253,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȽеĴС
-	 * @param seq һ
-	 * @param len ȽϵĳԱ
-	 * @return 1ǰд0ȣ-1ǰС
+	 * 比较两序列的大小
+	 * @param seq 另一个序列
+	 * @param len 比较的成员数量
+	 * @return 1：当前序列大，0：两个序列相等，-1：当前序列小
 	 */
 	public int compareTo(Sequence seq, int len) {
 		if (seq == this) {
@@ -2271,17 +2271,17 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			int result = mems.compareTo(i, mems2, i);
 			if (result != 0) {
 				return result;
-			} // ȱȽһ
+			} // 相等比较下一个
 		}
 
 		return 0;
 	}
 	
 	/**
-	 * ָȽȽеĴС
-	 * @param seq 뵱ǰнбȽϵ
-	 * @param comparator Ƚ
-	 * @return 1ǰд0ȣ-1ǰС
+	 * 用指定比较器比较两个序列的大小
+	 * @param seq 与当前序列进行比较的序列
+	 * @param comparator 比较器
+	 * @return 1：当前序列大，0：两个序列相等，-1：当前序列小
 	 */
 	public int compareTo(Sequence seq, Comparator<Object> comparator) {
 		if (seq == this) {
@@ -2300,16 +2300,16 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			int result = Variant.compare(mems.get(i), mems2.get(i), comparator, true);
 			if (result != 0) {
 				return result;
-			} // ȱȽһ
+			} // 相等比较下一个
 		}
 
 		return len == len2 ? 0 : (len > len2 ? 1 : -1);
 	}
 	
 	/**
-	 * ȽеĴСnullֵ
+	 * 比较两序列的大小，null当最大值处理
 	 * @param seq
-	 * @return 1ǰд0ȣ-1ǰС
+	 * @return 1：当前序列大，0：两个序列相等，-1：当前序列小
 	 */
 	public int nullMaxCompare(Sequence seq) {
 		if (seq == this) {
@@ -2328,17 +2328,17 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			int result = Variant.compare_0(mems.get(i), seq.getMem(i));
 			if (result != 0) {
 				return result;
-			} // ȱȽһ
+			} // 相等比较下一个
 		}
 
 		return len == len2 ? 0 : (len > len2 ? 1 : -1);
 	}
 	
 	/**
-	 * ָȽȽеĴСnullֵ
-	 * @param seq 뵱ǰнбȽϵ
-	 * @param comparator Ƚ
-	 * @return 1ǰд0ȣ-1ǰС
+	 * 用指定比较器比较两个序列的大小，null当最大值处理
+	 * @param seq 与当前序列进行比较的序列
+	 * @param comparator 比较器
+	 * @return 1：当前序列大，0：两个序列相等，-1：当前序列小
 	 */
 	public int nullMaxCompare(Sequence seq, Comparator<Object> comparator) {
 		if (seq == this) {
@@ -2357,15 +2357,15 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			int result = Variant.compare_0(mems.get(i), seq.getMem(i), comparator);
 			if (result != 0) {
 				return result;
-			} // ȱȽһ
+			} // 相等比较下一个
 		}
 
 		return len == len2 ? 0 : (len > len2 ? 1 : -1);
 	}
 
 	/**
-	 * ѵǰԱֵΪ0ͬȳнбȽ
-	 * @return 1ڣ0ڣ-1С
+	 * 把当前序列与成员值为0的同等长度序列进行比较
+	 * @return 1：大于，0：等于，-1：小于
 	 */
 	public int compare0() {
 		IArray mems = getMems();
@@ -2379,15 +2379,15 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			int result = Variant.compare(mems.get(i), zero, true);
 			if (result != 0) {
 				return result;
-			} // ȱȽһ
+			} // 相等比较下一个
 		}
 		
 		return 0;
 	}
 
 	/**
-	 * еĳԱ
-	 * @return trueԱ棬falseڳԱȡֵΪ
+	 * 返回序列的成员与
+	 * @return true：成员都是真，false：存在成员取值为假
 	 */
 	public boolean cand() {
 		IArray mems = getMems();
@@ -2401,10 +2401,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * мʽؼ
-	 * @param exp ʽ
-	 * @param ctx 
-	 * @return trueʽ棬falseڱʽΪ
+	 * 针对序列计算表达式，返回计算结果的与
+	 * @param exp 表达式
+	 * @param ctx 计算上下文
+	 * @return true：表达式计算结果都是真，false：存在表达式计算结果为假
 	 */
 	public boolean cand(Expression exp, Context ctx) {
 		IArray mems = getMems();
@@ -2458,7 +2458,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * صһΪnullԪ
+	 * 返回第一个不为null的元素
 	 * @return Object
 	 */
 	public Object ifn() {
@@ -2474,7 +2474,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * صһΪnullҲ""Ԫ
+	 * 返回第一个不为null并且不是""的元素
 	 * @return Object
 	 */
 	public Object nvl() {
@@ -2491,9 +2491,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * صһΪnullıʽֵ
-	 * @param exp Expression ʽ
-	 * @param ctx Context Ļ
+	 * 返回第一个不为null的表达式返回值
+	 * @param exp Expression 计算表达式
+	 * @param ctx Context 计算上下文环境
 	 * @return Sequence
 	 */
 	public Object ifn(Expression exp, Context ctx) {
@@ -2522,9 +2522,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * صһΪnullıʽֵ
-	 * @param exp Expression ʽ
-	 * @param ctx Context Ļ
+	 * 返回第一个不为null的表达式返回值
+	 * @param exp Expression 计算表达式
+	 * @param ctx Context 计算上下文环境
 	 * @return Sequence
 	 */
 	public Object nvl(Expression exp, Context ctx) {
@@ -2553,8 +2553,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еķظԪnull
-	 * @param opt o
+	 * 返回序列的非重复元素数，不包含null
+	 * @param opt o：序列有序
 	 * @return
 	 */
 	public int icount(String opt) {
@@ -2587,8 +2587,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȥظԪغ
-	 * @param opt String oֻڵĶԱȣuh@o
+	 * 返回去掉重复的元素后的序列
+	 * @param opt String o：只和相邻的对比，u：结果集不排序，h：先排序再用@o计算
 	 * @return Sequence
 	 */
 	public Sequence id(String opt) {
@@ -2633,7 +2633,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * гִĳԱ
+	 * 返回序列中出现次数最多的成员
 	 * @return
 	 */
 	public Object mode() {
@@ -2669,7 +2669,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * Ԫصĺ
+	 * 返回序列元素的和
 	 * @return Object
 	 */
 	public Object sum() {
@@ -2677,7 +2677,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * Ԫصƽ
+	 * 返回序列元素的平方和
 	 * @return Object
 	 */
 	public Object sum2() {
@@ -2695,7 +2695,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * Ԫƽֵ֮Ĳֵƽ͵ƽֵ
+	 * 返回元素与平均值之间的差值的平方和的平均值
 	 * @return Object
 	 */
 	public Object variance() {
@@ -2736,7 +2736,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ƽֵԪͱΪֵֵм
+	 * 返回平均值，元素类型必须为数值，空值不进行计数
 	 * @return Object
 	 */
 	public Object average() {
@@ -2744,7 +2744,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * СֵԿֵ
+	 * 返回最小值，忽略空值
 	 * @return Object
 	 */
 	public Object min() {
@@ -2752,8 +2752,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * СֵԿֵ
-	 * @param opt 0null
+	 * 返回最小值，忽略空值
+	 * @param opt 0：包含null
 	 * @return Object
 	 */
 	public Object min(String opt) {
@@ -2779,7 +2779,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ֵ
+	 * 返回最大值
 	 * @return Object
 	 */
 	public Object max() {
@@ -2787,8 +2787,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * СcountԪ
-	 * @param count 
+	 * 返回最小的count个元素
+	 * @param count 数量
 	 * @return
 	 */
 	public Sequence min(int count) {
@@ -2810,8 +2810,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * countԪ
-	 * @param count 
+	 * 返回最大的count个元素
+	 * @param count 数量
 	 * @return
 	 */
 	public Sequence max(int count) {
@@ -2829,7 +2829,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		return sequence.sort("zo");
 	}
 	
-	// ʹʽķֵС󣩵ȫԪصλ
+	// 返回使表达式数组的返回值最小（或最大）的全部元素的位置
 	private IntArrayList top1Index(Expression []exps, boolean isMin, Context ctx) {
 		int end = length();
 		int fcount = exps.length;
@@ -2856,7 +2856,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						Object obj = exps[f].calculate(ctx);
 						int result = Variant.compare(obj, prevValues[f], true);
 						if (result < 0) {
-							// µСֵ
+							// 发现新的最小值
 							prevValues[f] = obj;
 							for (++f; f < fcount; ++f) {
 								prevValues[f] = exps[f].calculate(ctx);
@@ -2870,7 +2870,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						}
 					}
 					
-					// ֶζǰСֵ
+					// 所有字段都跟前面的最小值相等
 					list.addInt(i);
 				}
 			} else {
@@ -2881,7 +2881,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						Object obj = exps[f].calculate(ctx);
 						int result = Variant.compare(obj, prevValues[f], true);
 						if (result > 0) {
-							// µֵ
+							// 发现新的最大值
 							prevValues[f] = obj;
 							for (++f; f < fcount; ++f) {
 								prevValues[f] = exps[f].calculate(ctx);
@@ -2895,7 +2895,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						}
 					}
 					
-					// ֶζǰСֵ
+					// 所有字段都跟前面的最小值相等
 					list.addInt(i);
 				}
 			}
@@ -2942,12 +2942,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * аʽȡǰcountλ
-	 * @param count 
-	 * @param exp ʽ
-	 * @param opt 1λãĬϷλ
-	 * @param ctx 
-	 * @return λûλ
+	 * 对序列按表达式做排名，取前count名的位置
+	 * @param count 数量
+	 * @param exp 计算表达式
+	 * @param opt 1：返回位置，默认返回位置序列
+	 * @param ctx 计算上下文
+	 * @return 位置或位置序列
 	 */
 	public Object ptop(int count, Expression exp, String opt, Context ctx) {
 		if (count == 0) {
@@ -2966,12 +2966,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡexpsǰλļ¼λ
-	 * @param count 
-	 * @param exps ʽ飬ڱȽϴС
-	 * @param opt ѡ
+	 * 取exps前几位的记录或位置
+	 * @param count 数量
+	 * @param exps 表达式数组，用于比较大小
+	 * @param opt 选项
 	 * @param ctx
-	 * @param getPos trueȡλãfalseȡ¼
+	 * @param getPos true：取位置，false：取记录
 	 * @return
 	 */
 	public Object top(int count, Expression []exps, String opt, Context ctx, boolean getPos) {
@@ -2980,7 +2980,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			return null;
 		}
 		
-		// ȡС
+		// 取所有最小或最大的
 		if ((count == 1 || count == -1) && (opt == null || opt.indexOf('1') == -1)) {
 			IntArrayList indexList = top1Index(exps, count == 1, ctx);
 			int size = indexList.size() - 1;
@@ -3057,11 +3057,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡcountexpֵСֵ
-	 * @param count 
-	 * @param exp ʽ
-	 * @param opt ѡ 1countΪ1ʱֻȡһĬȡͬ
-	 * @param ctx 
+	 * 取count个exp返回值的最小值
+	 * @param count 数量
+	 * @param exp 计算表达式
+	 * @param opt 选项 1：当count为正负1时，只取一个，默认取所有相同的
+	 * @param ctx 计算上下文
 	 * @return Object
 	 */
 	public Object top(int count, Expression exp, String opt, Context ctx) {
@@ -3096,12 +3096,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡcountʹexpֵСԪصgetExpֵ
-	 * @param count 
-	 * @param exp Ƚϱʽ
-	 * @param getExp ֵʽ
-	 * @param opt ѡ 1countΪ1ʱֻȡһĬȡͬ
-	 * @param ctx 
+	 * 取count个使exp返回值最小的元素的getExp返回值
+	 * @param count 数量
+	 * @param exp 比较表达式
+	 * @param getExp 返回值表达式
+	 * @param opt 选项 1：当count为正负1时，只取一个，默认取所有相同的
+	 * @param ctx 计算上下文
 	 * @return Object
 	 */
 	public Object top(int count, Expression exp, Expression getExp, String opt, Context ctx) {
@@ -3133,7 +3133,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 
-	// 0λò
+	// 0位置不用
 	private IntArrayList pmin(int count, Comparator<Object> comparator) {
 		IArray mems = getMems();
 		int size = mems.size();
@@ -3145,7 +3145,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			int p = 1;
 			for (; p <= size; ++p) {
 				minValue = mems.get(p);
-				if (minValue != null) { // Կֵ
+				if (minValue != null) { // 忽略空值
 					break;
 				}
 			}
@@ -3184,10 +3184,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹָʽֵСcountԪعɵ
-	 * @param exp Expression ʽ
-	 * @param count 
-	 * @param ctx Context 
+	 * 返回由使指定表达式值最小的count个元素构成的序列
+	 * @param exp Expression 计算表达式
+	 * @param count 数量
+	 * @param ctx Context 计算上下文
 	 * @return
 	 */
 	public Sequence minp(Expression exp, int count, Context ctx) {
@@ -3208,10 +3208,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹָʽֵcountԪعɵ
-	 * @param exp Expression ʽ
-	 * @param count 
-	 * @param ctx Context 
+	 * 返回由使指定表达式值最大的count个元素构成的序列
+	 * @param exp Expression 计算表达式
+	 * @param count 数量
+	 * @param ctx Context 计算上下文
 	 * @return
 	 */
 	public Sequence maxp(Expression exp, int count, Context ctx) {
@@ -3232,9 +3232,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * objе
+	 * 返回obj在序列中的排名
 	 * @param obj Object
-	 * @param opt String ziظһsͳѧDouble
+	 * @param opt String z：倒数排名，i：重复的算一个，s：统计学排名，返回Double
 	 * @return Number
 	 */
 	public Number rank(Object obj, String opt) {
@@ -3327,8 +3327,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ÿԪص
-	 * @param opt String ziظһ
+	 * 返回每个元素的排名
+	 * @param opt String z：倒数排名，i：重复的算一个
 	 * @return Sequence
 	 */
 	public Sequence ranks(String opt) {
@@ -3354,7 +3354,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			comparator = new DescComparator(comparator);
 		}
 
-		// 
+		// 进行排序
 		MultithreadUtil.sort(infos, 1, len, new PSortComparator(comparator));
 
 		Number[] places = new Number[size];
@@ -3428,24 +3428,24 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ĳһεmedianֵ
-	 * øúʱѾ
-	 * úᱻûֱӵãòϷɵ֤߱
-	 * @param start	ֶοʼλ(ڷֶ)
-	 * @param end	ֶνλ(ڷֶ)
-	 * @param	k	صkεĵһݡ
-	 * 				k0ʱжͷݵС
-	 * 				kСڵn
-	 * @param	n	ݷֳɶٶ
-	 * 				n0ȡֵ
-	 * 				n2ʾѱݷֳnΡ
-	 * 				n1
-	 * @return	medianĽ
+	 * 计算序列某一段的median值
+	 * 调用该函数时，该序列已经排序。
+	 * 该函数不会被用户直接调用，该参数合法性由调用者保证。
+	 * @param start	分段开始位置(包含在分段中)
+	 * @param end	分段结束位置(包含在分段中)
+	 * @param	k	返回第k段的第一个数据。
+	 * 				k等于0时，返回所有段头数据的序列。
+	 * 				k小于等于n
+	 * @param	n	本分组数据分成多少段
+	 * 				n等于0则取中值。
+	 * 				n大于2，表示把本组数据分成n段。
+	 * 				n不等于1
+	 * @return	返回median的结果
 	 */
 	public Object median(int start, int end, int k, int n) {
 		Sequence resSeq = null;
 		
-		// ʼ
+		// 初始化设置
 		if (2 <= n && 0 == k)
 			resSeq = new Sequence();
 		else if (0 == n && 0 == k) {
@@ -3455,7 +3455,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		
 		int len = end - start + 1;
 		try {
-			if (null == resSeq) {	// ֵ
+			if (null == resSeq) {	// 返回中值
 				if (start+(len*k)/n-1 >= length()) {
 					return get(length());
 				} else if ((len*k)%n != 0)
@@ -3465,7 +3465,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 							get(start + len*k/n)),
 							2);
 				}
-			} else {	// Ҫе
+			} else {	// 需要返回序列的情况
 				for (int i = 1; i < n; i++) {
 					if (start+(len*i)/n-1 >= length()) {
 						resSeq.add(get(length()));
@@ -3488,8 +3488,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еԪعɵĺ
-	 * @param opt String 'm': Ԫͬù鲢㷨ʵ
+	 * 返回由序列的元素构成的和列
+	 * @param opt String 'm': 表明元素同序，用归并算法实现
 	 * @return Sequence
 	 */
 	public Sequence conj(String opt) {
@@ -3501,7 +3501,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		
 		if (opt != null) {
 			if (opt.indexOf('m') != -1) {
-				// ù鲢ϲԪ
+				// 利用归并法合并元素序列
 				Object obj = mems.get(1);
 				Sequence sequence;
 				if (obj instanceof Sequence) {
@@ -3535,7 +3535,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 		}
 
-		// һжԪ
+		// 计算新序列一共有多少元素
 		int total = 0;
 		boolean hasSeq = false;
 		for (int i = 1; i <= size; ++i) {
@@ -3568,7 +3568,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		return result;
 	}
 	
-	// ݹϲֵֶ
+	// 递归合并字段值
 	public Sequence fieldValues_r(String field) {
 		IArray mems = getMems();
 		int size = mems.size();
@@ -3606,7 +3606,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		return result;
 	}
 	
-	// ݹϲֵֶ
+	// 递归合并字段值
 	public Sequence fieldValues_r(int col) {
 		IArray mems = getMems();
 		int size = mems.size();
@@ -3635,9 +3635,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ָʽĺ
-	 * @param exp ʽ
-	 * @param ctx 
+	 * 返回指定表达式计算结果的和列
+	 * @param exp 表达式
+	 * @param ctx 计算上下文
 	 * @return Sequence
 	 */
 	public Sequence conj(Expression exp, Context ctx) {
@@ -3679,8 +3679,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * еԪعɵĲ
-	 * @param opt String 'm': Ԫͬù鲢㷨ʵ
+	 * 返回由序列的元素构成的差列
+	 * @param opt String 'm': 表明元素同序，用归并算法实现
 	 * @return Sequence
 	 */
 	public Sequence diff(String opt) {
@@ -3749,8 +3749,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еԪعɵĽ
-	 * @param opt String 'm': Ԫͬù鲢㷨ʵ
+	 * 返回由序列的元素构成的交列
+	 * @param opt String 'm': 表明元素同序，用归并算法实现
 	 * @return Sequence
 	 */
 	public Sequence isect(String opt) {
@@ -3789,10 +3789,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * гԱָʽеĳԱͨУ
-	 * @param exps ʽ
-	 * @param ctx 
-	 * @return 
+	 * 对序列成员按指定表达式做交集（序列的成员通常是排列）
+	 * @param exps 表达式数组
+	 * @param ctx 计算上下文
+	 * @return 交集
 	 */
 	public Sequence isect(Expression []exps, Context ctx) {
 		IArray mems = getMems();
@@ -3829,8 +3829,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еԪعɵĲ
-	 * @param opt String 'm': Ԫͬù鲢㷨ʵ
+	 * 返回由序列的元素构成的并列
+	 * @param opt String 'm': 表明元素同序，用归并算法实现
 	 * @return Sequence
 	 */
 	public Sequence union(String opt) {
@@ -3899,7 +3899,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еԪĽ
+	 * 返回由序列的元素异或的交列
 	 * @return Sequence
 	 */
 	public Sequence xor() {
@@ -3935,10 +3935,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * еļ
-	 * @param exp Expression ʽ
-	 * @param opt String mм
-	 * @param ctx Context Ļ
+	 * 返回序列的计算列
+	 * @param exp Expression 计算表达式
+	 * @param opt String m：并行计算
+	 * @param ctx Context 计算上下文环境
 	 * @return Sequence
 	 */
 	public Sequence calc(Expression exp, String opt, Context ctx) {
@@ -3950,9 +3950,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * еļ
-	 * @param exp Expression ʽ
-	 * @param ctx Context Ļ
+	 * 返回序列的计算列
+	 * @param exp Expression 计算表达式
+	 * @param ctx Context 计算上下文环境
 	 * @return Sequence
 	 */
 	public Sequence calc(Expression exp, Context ctx) {
@@ -4013,9 +4013,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ָԪؼʽؼ
-	 * @param index int Ԫ
-	 * @param exp Expression ʽ
+	 * 针对指定元素计算表达式，返回计算结果
+	 * @param index int 元素索引
+	 * @param exp Expression 计算表达式
 	 * @param ctx Context
 	 * @return Object
 	 */
@@ -4045,11 +4045,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еָԪؼʽؼ
-	 * @param index Ԫţ1ʼ
-	 * @param exps ʽ
-	 * @param ctx 
-	 * @param outValues 
+	 * 针对序列的指定元素计算表达式返回计算结果
+	 * @param index 元素序号，从1开始计数
+	 * @param exps 表达式数组
+	 * @param ctx 计算上下文
+	 * @param outValues 计算结果数组
 	 */
 	public void calc(int index, Expression []exps, Context ctx, Object []outValues) {
 		ComputeStack stack = ctx.getComputeStack();
@@ -4067,10 +4067,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ָĶԪؼʽؼɵ
-	 * @param seq Sequence Ԫλùɵ
-	 * @param exp Expression ʽ
-	 * @param ctx Context 
+	 * 针对指定的多元素计算表达式，返回计算结果构成的序列
+	 * @param seq Sequence 元素位置构成的序列
+	 * @param exp Expression 计算表达式
+	 * @param ctx Context 计算上下文
 	 * @return Sequence
 	 */
 	public Sequence calc(Sequence seq, Expression exp, Context ctx) {
@@ -4107,13 +4107,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * 㣬cΪǰΪԪأ
-	 * @param exp ʽ
-	 * @param initVal ʼֵ
-	 * @param c ʽ
-	 * @param opt aеֵĬϷһֵ
-	 * @param ctx 
-	 * @return 
+	 * 针对序列做迭代运算，迭代过程中c为真则提前结束（不包含为真的元素）
+	 * @param exp 迭代表达式
+	 * @param initVal 初始值
+	 * @param c 条件表达式
+	 * @param opt a：返回所有迭代值，默认返回最后一个迭代值
+	 * @param ctx 计算上下文
+	 * @return 迭代结果
 	 */
 	public Object iterate(Expression exp, Object initVal, Expression c, String opt, Context ctx) {
 		Param param = ctx.getIterateParam();
@@ -4190,9 +4190,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ʽԼ
-	 * @param exp Expression ʽ
-	 * @param ctx Context Ļ
+	 * 计算表达式并返回自己
+	 * @param exp Expression 计算表达式
+	 * @param ctx Context 计算上下文环境
 	 */
 	public void run(Expression exp, Context ctx) {
 		if (exp == null) {
@@ -4215,9 +4215,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ѭԪأʽиֵ
-	 * @param assignExps Expression[] ֵʽ
-	 * @param exps Expression[] ֵʽ
+	 * 循环序列元素，计算表达式并进行赋值
+	 * @param assignExps Expression[] 赋值表达式
+	 * @param exps Expression[] 值表达式
 	 * @param ctx Context
 	 */
 	public void run(Expression[] assignExps, Expression[] exps, Context ctx) {
@@ -4279,12 +4279,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			if (opt.indexOf('c') != -1) isContinuous = true;
 		}
 
-		// ԪγԴ
+		// 元素依次出现在源序列中
 		if (isIncre) {
 			Sequence result = new Sequence(subLen);
 			IArray resultMems = result.getMems();
 
-			if (isSorted) { // Դ
+			if (isSorted) { // 源序列有序
 				int pos = 1;
 				for (int t = 1; t <= subLen; ++t) {
 					pos = mems.binarySearch(subMems.get(t), pos, len);
@@ -4310,12 +4310,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 			return result;
 		} else if (isContinuous) {
-			int maxCandidate = len - subLen + 1; // ȽϵĴ
+			int maxCandidate = len - subLen + 1; // 比较的次数
 			if (isSorted) {
 				Object o1 = subMems.get(1);
 				int candidate = 1;
 
-				// ҵһȵԪص
+				// 找到第一个相等的元素的序号
 				Next:
 				while (candidate <= maxCandidate) {
 					int result = Variant.compare(o1, mems.get(candidate), true);
@@ -4353,7 +4353,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			Sequence result = new Sequence(subLen);
 			IArray resultMems = result.getMems();
 
-			if (isSorted) { // Դ
+			if (isSorted) { // 源序列有序
 				for (int t = 1; t <= subLen; ++t) {
 					int pos = mems.binarySearch(subMems.get(t));
 					if (pos > 0) {
@@ -4378,10 +4378,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * objеλãĬϷصһ
-	 * @param obj Object ĳһԪػԪɵ
-	 * @param opt String ұ־aߣzӺǰңbͬ鲢ңsҲʱؿɲλõ෴
-	 * @return Уaѡaѡ
+	 * 返回obj在序列中的位置，默认返回第一个
+	 * @param obj Object 某一元素或连续的元素组成的序列
+	 * @param opt String 查找标志，a：所有满足条件者，z：从后面往前找，b同序归并法查找，s：找不到时返回可插入位置的相反数
+	 * @return 数列：带有a选项，整数：不带a选项
 	 */
 	public Object pos(Object obj, String opt) {
 		if (obj instanceof Sequence && (opt == null || opt.indexOf('p') == -1)) {
@@ -4433,11 +4433,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * objеλ
-	 * @param obj Object  ĳһԪػԪɵ
-	 * @param startPos int ʼλ
-	 * @param opt String  ұ־aߣzӺǰ
-	 * @return Уaѡaѡ
+	 * 返回obj在序列中的位置
+	 * @param obj Object  某一元素或连续的元素组成的序列
+	 * @param startPos int 起始查找位置
+	 * @param opt String  查找标志，a：所有满足条件者，z：从后面往前找
+	 * @return 数列：带有a选项，整数：不带a选项
 	 */
 	public Object pos(Object obj, int startPos, String opt) {
 		int end = length();
@@ -4481,9 +4481,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * Ԫڵ䣬СA(1)0ڵA(1)СA(2)1Դ 
+	 * 返回元素所在的区间，小于A(1)返回0，大于等于A(1)小于A(2)返回1，以此类推 
 	 * @param obj
-	 * @param opt rʹұ䣬Ĭҿ
+	 * @param opt r：使用左开右闭区间，默认左闭右开的区间
 	 * @return
 	 */
 	public int pseg(Object obj, String opt) {
@@ -4500,11 +4500,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * еļеСֵ1ʼĬϷصһ
-	 * @param exp Expression ʽʾ
-	 * @param opt String      aߣ-Ӻǰ
-	 * @param ctx Context Ļ
-	 * @return Уaѡaѡ
+	 * 返回序列的计算列的最小值的索引，从1开始计数，默认返回第一个
+	 * @param exp Expression 计算表达式，空则表示本序列
+	 * @param opt String      a：所有满足条件者，-：从后面往前找
+	 * @param ctx Context 计算上下文环境
+	 * @return 数列：带有a选项，整数：不带a选项
 	 */
 	public Object pmin(Expression exp, String opt, Context ctx) {
 		int size = length();
@@ -4521,12 +4521,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еļеСֵ
-	 * @param exp Expression ʽʾ
-	 * @param pos int ʼλ
-	 * @param opt String aߣ-Ӻǰ
-	 * @param ctx Context Ļ
-	 * @return Уaѡaѡ
+	 * 返回序列的计算列的最小值的索引
+	 * @param exp Expression 计算表达式，空则表示本序列
+	 * @param pos int 起始查找位置
+	 * @param opt String a：所有满足条件者，-：从后面往前找
+	 * @param ctx Context 计算上下文环境
+	 * @return 数列：带有a选项，整数：不带a选项
 	 */
 	public Object pmin(Expression exp, int pos, String opt, Context ctx) {
 		int len = length();
@@ -4569,11 +4569,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еļеֵ1ʼĬϷصһ
-	 * @param exp Expression ʽʾ
-	 * @param opt String      aߣ-Ӻǰ
-	 * @param ctx Context Ļ
-	 * @return Уaѡaѡ
+	 * 返回序列的计算列的最大值的索引，从1开始计数，默认返回第一个
+	 * @param exp Expression 计算表达式，空则表示本序列
+	 * @param opt String      a：所有满足条件者，-：从后面往前找
+	 * @param ctx Context 计算上下文环境
+	 * @return 数列：带有a选项，整数：不带a选项
 	 */
 	public Object pmax(Expression exp, String opt, Context ctx) {
 		int size = length();
@@ -4590,12 +4590,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еļеСֵ
-	 * @param exp Expression ʽʾ
-	 * @param pos int ʼλ
-	 * @param opt String aߣ-Ӻǰ
-	 * @param ctx Context Ļ
-	 * @return Уaѡaѡ
+	 * 返回序列的计算列的最小值的索引
+	 * @param exp Expression 计算表达式，空则表示本序列
+	 * @param pos int 起始查找位置
+	 * @param opt String a：所有满足条件者，-：从后面往前找
+	 * @param ctx Context 计算上下文环境
+	 * @return 数列：带有a选项，整数：不带a选项
 	 */
 	public Object pmax(Expression exp, int pos, String opt, Context ctx) {
 		int len = length();
@@ -4632,7 +4632,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				stack.pop();
 			}
 
-			// end-lenԲ
+			// end-len可以不用添加
 		}
 
 		return sequence.pmax(opt, start, end);
@@ -4655,7 +4655,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				int i = start;
 				for (; i <= end; ++i) {
 					minValue = mems.get(i);
-					if (minValue != null) { // Կֵ
+					if (minValue != null) { // 忽略空值
 						indexList.addInt(i);
 						break;
 					}
@@ -4671,7 +4671,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 							indexList.addInt(i);
 						} else if (result == 0) {
 							indexList.addInt(i);
-						} // ڲκδ
+						} // 大于不做任何处理
 					}
 				}
 			} else {
@@ -4687,7 +4687,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						indexList.addInt(i);
 					} else if (result == 0) {
 						indexList.addInt(i);
-					} // ڲκδ
+					} // 大于不做任何处理
 				}
 			}
 
@@ -4712,7 +4712,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				int i = start;
 				for (; i <= end; ++i) {
 					minValue = mems.get(i);
-					if (minValue != null) { // Կֵ
+					if (minValue != null) { // 忽略空值
 						minPos = i;
 						break;
 					}
@@ -4777,11 +4777,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				indexList.addInt(i);
 			} else if (result == 0) {
 				indexList.addInt(i);
-			} // ڲκδ
+			} // 大于不做任何处理
 		}
 
 		if (maxValue == null) {
-			indexList.clear(); // Կֵ
+			indexList.clear(); // 忽略空值
 		}
 		
 		int resultSize = indexList.size();
@@ -4810,11 +4810,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * Ԫص
-	 * @param exp Expression Ϊ١Ρлֵ
-	 * @param opt String aߣzӺǰңbַңsҲʱؿɲλõ෴
-	 * @param ctx Context Ļ
-	 * @return Уaѡaѡ
+	 * 返回满足条件的元素的索引
+	 * @param exp Expression 计算结果为真假、整形、序列或值
+	 * @param opt String a：所有满足条件者，z：从后面往前找，b：二分法查找，s：找不到时返回可插入位置的相反数
+	 * @param ctx Context 计算上下文环境
+	 * @return 数列：带有a选项，整数：不带a选项
 	 */
 	public Object pselect(Expression exp, String opt, Context ctx) {
 		boolean isAll = false, isFirst = true, isZero = false, isNull = true, isSorted = false, isInsertPos = false;
@@ -4855,10 +4855,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 		Object result;
 		if (isSorted) {
-			// ʽķֵΪ
+			// 表达式的返回值为整形且有序
 			result = pselect0(exp, isAll, isFirst, isInsertPos, 1, size, ctx);
 		} else {
-			// ʽķΪ
+			// 表达式的返回类型为布尔型
 			result = pselectb(exp, isAll, isFirst, 1, size, ctx);
 		}
 
@@ -4874,12 +4874,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * Ԫص
-	 * @param exp Expression Ϊ١Ρлֵ
-	 * @param pos int    ʼλ
-	 * @param opt String aߣzӺǰңbַ
-	 * @param ctx Context Ļ
-	 * @return Уaѡaѡ
+	 * 返回满足条件的元素的索引
+	 * @param exp Expression 计算结果为真假、整形、序列或值
+	 * @param pos int    起始查找位置
+	 * @param opt String a：所有满足条件者，z：从后面往前找，b二分法查找
+	 * @param ctx Context 计算上下文环境
+	 * @return 数列：带有a选项，整数：不带a选项
 	 */
 	public Object pselect(Expression exp, int pos, String opt, Context ctx) {
 		int len = length();
@@ -4928,10 +4928,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 		Object result;
 		if (isSorted) {
-			// ʽķֵΪ
+			// 表达式的返回值为整形且有序
 			result = pselect0(exp, isAll, isFirst, isInsertPos, start, end, ctx);
 		} else {
-			// ʽķΪ
+			// 表达式的返回类型为布尔型
 			result = pselectb(exp, isAll, isFirst, start, end, ctx);
 		}
 
@@ -4947,13 +4947,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹʽֵȵԪصλ
-	 * @param fltExps Expression[] ʽ
-	 * @param vals Object[] ֵ
-	 * @param pos int ʼλ
-	 * @param opt String aߣzӺǰңbַ
+	 * 返回使两组表达式值相等的元素的位置
+	 * @param fltExps Expression[] 条件表达式
+	 * @param vals Object[] 值
+	 * @param pos int 起始查找位置
+	 * @param opt String a：所有满足条件者，z：从后面往前找，b：二分法查找
 	 * @param ctx Context
-	 * @return Уaѡaѡ
+	 * @return 数列：带有a选项，整数：不带a选项
 	 */
 	public Object pselect(Expression[] fltExps, Object[] vals,
 						  int pos, String opt, Context ctx) {
@@ -4995,12 +4995,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹʽֵȵԪصλ
-	 * @param fltExps Expression[] ʽ
-	 * @param vals Object[] ֵʽ
-	 * @param opt String aߣ-ӺǰңbַңsҲʱؿɲλõ෴
+	 * 返回使两组表达式值相等的元素的位置
+	 * @param fltExps Expression[] 条件表达式
+	 * @param vals Object[] 值表达式
+	 * @param opt String a：所有满足条件者，-：从后面往前找，b：二分法查找，s：找不到时返回可插入位置的相反数
 	 * @param ctx Context
-	 * @return Уaѡaѡ
+	 * @return 数列：带有a选项，整数：不带a选项
 	 */
 	public Object pselect(Expression[] fltExps, Object[] vals, String opt, Context ctx) {
 		if (fltExps == null || fltExps.length == 0) {
@@ -5059,7 +5059,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		stack.push(current);
 
 		try {
-			if (isSorted) { // 
+			if (isSorted) { // 有序
 				int low = start, high = end;
 				int pos = -1;
 
@@ -5099,7 +5099,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				int first = 0;
 				int last = 0;
 
-				// ҵһʹexp0Ԫص
+				// 找到第一个使exp返回0的元素的索引
 				if (bAll || !bLast) {
 					first = pos;
 					Next:while (first > start) {
@@ -5115,7 +5115,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					}
 				}
 
-				// ҵһʹexp0Ԫص
+				// 找到最后一个使exp返回0的元素的索引
 				if (bAll || bLast) {
 					last = pos;
 					Next:while (last < end) {
@@ -5152,7 +5152,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						return first;
 					}
 				}
-			} else { // 
+			} else { // 无序
 				Sequence result = bAll ? new Sequence() : null;
 				if (bLast) {
 					Next:
@@ -5201,7 +5201,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 	
-	// аexp򣬶ֲʹexpļֵΪvalԪصλãҲزλ
+	// 序列按exp有序，二分查找使exp的计算值为val的元素的位置，找不到返回插入位置
 	private int pselectb(Node exp, Object val, boolean bLast, int start, int end, Context ctx) {
 		ComputeStack stack = ctx.getComputeStack();
 		Current current = new Current(this);
@@ -5245,7 +5245,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 
 			if (bLast) {
-				// ҵһʹexp0Ԫص
+				// 找到最后一个使exp返回0的元素的索引
 				for (++pos; pos <= high; ++pos) {
 					current.setCurrent(pos);
 					Object flt = exp.calculate(ctx);
@@ -5256,7 +5256,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				
 				return pos - 1;
 			} else {
-				// ҵһʹexp0Ԫص
+				// 找到第一个使exp返回0的元素的索引
 				for (--pos; pos >= low; --pos) {
 					current.setCurrent(pos);
 					Object flt = exp.calculate(ctx);
@@ -5272,7 +5272,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 
-	// ʹʽΪtrueԪص1ʼĬϷصһ
+	// 返回使表达式为true的元素的索引，从1开始计数，默认返回第一个
 	private Object pselectb(Expression exp, boolean isAll, boolean isFirst, 
 			int start, int end, Context ctx) {
 		Sequence result = isAll ? new Sequence() : null;
@@ -5317,8 +5317,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 
-	// ٶеļ򣬷ʹʽķֵΪ0Ԫص1ʼĬϷصһ
-	// opt aߣzӺǰ
+	// 假定序列的计算列有序，返回使表达式的返回值为0的元素的索引，从1开始计数，默认返回第一个
+	// opt a：所有满足条件者，z：从后面往前找
 	private Object pselect0(Expression exp, boolean isAll, boolean isFirst, 
 			boolean isInsertPos, int start, int end, Context ctx) {
 		int first = 0;
@@ -5329,7 +5329,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		stack.push(current);
 
 		try {
-			// ȡһһԪؼʽжǽ
+			// 取出第一个和最后一个元素计算表达式，判定升序还是降序
 			current.setCurrent(start);
 			Object objFirst = exp.calculate(ctx);
 
@@ -5344,7 +5344,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			int valFirst = ((Number)objFirst).intValue();
 			int valLast = ((Number)objLast).intValue();
 
-			// Сֵ0ֵС0ûԪ
+			// 如果最小值大于0或着最大值小于于0则没有满足条件的元素
 			if (valFirst > 0) {
 				if (isAll) {
 					return new Sequence(0);
@@ -5363,11 +5363,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				}
 			}
 
-			if (valFirst == valLast) { // 0
+			if (valFirst == valLast) { // 都等于0
 				first = start;
 				last = end;
 			} else {
-				// ֲʹexp0Ԫص
+				// 二分查找使exp返回0的元素的索引
 				int low = start, high = end;
 				int pos = -1;
 
@@ -5401,7 +5401,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					}
 				}
 
-				// ҵһʹexp0Ԫص
+				// 找到第一个使exp返回0的元素的索引
 				if (isAll || isFirst) {
 					first = pos;
 					while (first > start) {
@@ -5420,7 +5420,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					}
 				}
 
-				// ҵһʹexp0Ԫص
+				// 找到最后一个使exp返回0的元素的索引
 				if (isAll || !isFirst) {
 					last = pos;
 					while (last < end) {
@@ -5467,17 +5467,17 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹʽexpֵСԪعɵУĬϷصһ
-	 * @param exp Expression ʽ
-	 * @param opt String aУzһxز
-	 * @param ctx Context 
+	 * 返回由使表达式exp值最小的元素构成的序列，默认返回第一个
+	 * @param exp Expression 计算表达式
+	 * @param opt String a：返回所有，z：返回最后一个，x：返回差集
+	 * @param ctx Context 计算上下文
 	 * @return Sequence
 	 */
 	public Object minp(Expression exp, String opt, Context ctx) {
 		boolean bAll = false, bLast = false, ignoreNull = true;
 		if (opt != null) {
-			if (opt.indexOf('a') != -1) bAll = true; // ѡе
-			if (opt.indexOf('z') != -1) bLast = true; // Ӻʼ
+			if (opt.indexOf('a') != -1) bAll = true; // 选择所有的
+			if (opt.indexOf('z') != -1) bLast = true; // 从后开始
 			if (opt.indexOf('0') != -1) ignoreNull = false;
 		}
 
@@ -5491,7 +5491,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		int resultSize = indexArray.size();
 		
 		if (resultSize == 0) {
-			// ȫnull
+			// 全是null
 			if (bAll) {
 				return new Sequence();
 			} else {
@@ -5511,17 +5511,17 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹָʽֵԪعɵУĬϷصһ
-	 * @param exp Expression ʽ
-	 * @param opt String aУzһxز
-	 * @param ctx Context 
+	 * 返回由使指定表达式值最大的元素构成的序列，默认返回第一个
+	 * @param exp Expression 计算表达式
+	 * @param opt String a：返回所有，z：返回最后一个，x：返回差集
+	 * @param ctx Context 计算上下文
 	 * @return Sequence
 	 */
 	public Object maxp(Expression exp, String opt, Context ctx) {
 		boolean bAll = false, bLast = false;
 		if (opt != null) {
-			if (opt.indexOf('a') != -1)bAll = true; // ѡе
-			if (opt.indexOf('z') != -1)bLast = true; // Ӻʼ
+			if (opt.indexOf('a') != -1)bAll = true; // 选择所有的
+			if (opt.indexOf('z') != -1)bLast = true; // 从后开始
 		}
 
 		int len = length();
@@ -5532,18 +5532,18 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		Sequence values = calc(exp, ctx);
 		IArray valMems = values.getMems();
 		
-		// ȡֵ
+		// 取出最大值的索引
 		Object maxValue = null;
 		int i= 1;
 		for (; i <= len; ++i) {
 			maxValue = valMems.get(i);
-			if (maxValue != null) { // Կֵ
+			if (maxValue != null) { // 忽略空值
 				break;
 			}
 		}
 		
 		if (i > len) {
-			// ȫnull
+			// 全是null
 			if (bAll) {
 				return new Sequence();
 			} else {
@@ -5564,7 +5564,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					indexList.addInt(i);
 				} else if (result == 0) {
 					indexList.addInt(i);
-				} // ڲκδ
+				} // 大于不做任何处理
 			}
 			
 			int count = indexList.size();
@@ -5572,11 +5572,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			Sequence result = new Sequence(count);
 			IArray resultMems = result.getMems();
 			
-			if (bLast) { // ѡindexָԪ
+			if (bLast) { // 后序选出index中指定的元素
 				for (i = count - 1; i >= 0; --i) {
 					resultMems.add(mems.get(indexList.getInt(i)));
 				}
-			} else { // ˳ѡindexָԪ
+			} else { // 顺序选出index中指定的元素
 				for (i = 0; i < count; ++i) {
 					resultMems.add(mems.get(indexList.getInt(i)));
 				}
@@ -5594,7 +5594,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						q = i;
 					} else if (result == 0) {
 						q = i;
-					} // ڲκδ
+					} // 大于不做任何处理
 				}
 			} else {
 				for (++i; i <= len; ++i) {
@@ -5651,11 +5651,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * Ԫص
-	 * @param exp Expression Ϊ١Ρлֵ
-	 * @param opt String 1صһzӺң bʹöַңo޸бtΪʱؿ
-	 * cҵһֹͣrҵһȡ
-	 * @param ctx Context Ļ
+	 * 返回满足条件的元素的索引
+	 * @param exp Expression 计算结果为真假、整形、序列或值
+	 * @param opt String 1：返回第一个，z：从后查找， b使用二分法查找，o：修改序列本身，t：结果集为空时返回空序表，
+	 * c：找到第一个不满足条件的停止，r：找到第一个满足条件的取到最后
+	 * @param ctx Context 计算上下文环境
 	 * @return Sequence
 	 */
 	public Object select(Expression exp, String opt, Context ctx) {
@@ -5681,7 +5681,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 		}
 
-		if (exp == null) { // ѡ
+		if (exp == null) { // 选出所有
 			if (isForward) {
 				if (isOrg) {
 					return this;
@@ -5698,7 +5698,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 		}
 
-		if (isBool) { // ʹʽΪԪ
+		if (isBool) { // 返回使表达式为真的元素
 			return selectb(exp, opt, ctx);
 		}
 
@@ -5711,7 +5711,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		
 		Regions regions = binarySelect(exp.getHome(), ds, ctx);
 		if (regions == null) {
-			// ʹʽֵΪ0Ԫ
+			// 返回使表达式值为0的元素
 			return select0(exp, opt, ctx);
 		} else {
 			ArrayList<Region> list = regions.getRegionList();
@@ -5731,9 +5731,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 
-	// dsжnodeǷdsֶΣжnodeǷ~
+	// 如果ds不空判断node是否是ds的字段，否则判断node是否是~
 	private boolean isField(DataStruct ds, Node node) {
-		// [f1,f2]ֶ
+		// [f1,f2]多字段有序
 		if (node instanceof ValueList) {
 			if (ds != null) {
 				ValueList valueList = (ValueList)node;
@@ -5780,7 +5780,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 	
-	// 
+	// 有序查找
 	protected Regions binarySelect(Node node, DataStruct ds, Context ctx) {
 		try {
 			Node fieldNode;
@@ -5893,8 +5893,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 	
-	// ʹʽexpΪtrueԪعɵУĬϷ
-	// opt 1صһzһcҵһֹͣrҵһȡ
+	// 返回使表达式exp为true的元素构成的序列，默认返回所有
+	// opt 1：返回第一个，z：返回最后一个，c：找到第一个不满足条件的停止，r：找到第一个满足条件的取到最后
 	private Object selectb(Expression exp, String opt, Context ctx) {
 		boolean bOne = false, bLast = false, isOrg = false, returnTable = false, continuous = false, rc = false;
 		if (opt != null) {
@@ -5916,6 +5916,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					return ((HashIndexTable)index).select(exp, ctx);
 				} else if (index instanceof HashArrayIndexTable) {
 					return ((HashArrayIndexTable)index).select(exp, ctx);
+				} else if (index instanceof IntHashIndexTable) {
+					return ((IntHashIndexTable)index).select(exp, ctx);
 				}
 			}
 		}
@@ -5935,7 +5937,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					Object obj = exp.calculate(ctx);
 					if (Variant.isTrue(obj)) {
 						if (rc) {
-							// ҵһȡ
+							// 找到第一条满足条件的取到最后
 							resultArray.add(mems, i);
 							for (++i; i <= len; ++i) {
 								resultArray.add(mems, i);
@@ -5952,7 +5954,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 							resultArray.add(mems, i);
 						}
 					} else if (continuous) {
-						// ֻǰ
+						// 只找前面连续满足条件的
 						break;
 					}
 				}
@@ -5962,7 +5964,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					Object obj = exp.calculate(ctx);
 					if (Variant.isTrue(obj)) {
 						if (rc) {
-							// Ӻҵһȡһ
+							// 从后面找到第一条满足条件的取到第一个
 							resultArray.add(mems, i);
 							for (--i; i > 0; --i) {
 								resultArray.add(mems, i);
@@ -5979,7 +5981,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 							resultArray.add(mems, i);
 						}
 					} else if (continuous) {
-						// ֻҺ
+						// 只找后面连续满足条件的
 						break;
 					}
 				}
@@ -6014,8 +6016,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 
-	// ٶеļ򣬷ʹʽķֵΪ0Ԫعɵ
-	// opt 1ѡһzӺǰ
+	// 假定序列的计算列有序，返回使表达式的返回值为0的元素构成的序列
+	// opt 1：选出一个，z：从后面往前找
 	private Object select0(Expression exp, String opt, Context ctx) {
 		boolean bOne = false, bLast = false, isOrg = false, returnTable = false;
 		if (opt != null) {
@@ -6034,7 +6036,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		stack.push(current);
 
 		try {
-			// ȡһһԪؼʽжǽ
+			// 取出第一个和最后一个元素计算表达式，判定升序还是降序
 			current.setCurrent(1);
 			Object objFirst = exp.calculate(ctx);
 
@@ -6049,7 +6051,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			int valFirst = ((Number)objFirst).intValue();
 			int valLast = ((Number)objLast).intValue();
 
-			// Сֵ0ֵС0ûԪ
+			// 如果最小值大于0或着最大值小于于0则没有满足条件的元素
 			if (valFirst > 0 || valLast < 0) {
 				if (isOrg) {
 					this.mems = new ObjectArray(0);
@@ -6068,11 +6070,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				}
 			}
 
-			if (valFirst == valLast) { // 0
+			if (valFirst == valLast) { // 都等于0
 				first = 1;
 				last = size;
 			} else {
-				// ֲʹexp0Ԫص
+				// 二分查找使exp返回0的元素的索引
 				int low = 1, high = size;
 				int pos = -1;
 
@@ -6114,7 +6116,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					}
 				}
 
-				// ҵһʹexp0Ԫص
+				// 找到第一个使exp返回0的元素的索引
 				if (!bOne || !bLast) {
 					first = pos;
 					while (first > 1) {
@@ -6133,7 +6135,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					}
 				}
 
-				// ҵһʹexp0Ԫص
+				// 找到最后一个使exp返回0的元素的索引
 				if (!bOne || bLast) {
 					last = pos;
 					while (last < size) {
@@ -6188,10 +6190,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ʹʽֵȵԪ
-	 * @param fltExps Expression[] ʽ
-	 * @param vals Object[] ֵ
-	 * @param opt String 1صһzӺңxزbʹöַ
+	 * 返回使两组表达式值相等的元素
+	 * @param fltExps Expression[] 条件表达式
+	 * @param vals Object[] 值
+	 * @param opt String 1：返回第一个，z：从后查找，x：返回差集，b使用二分法查找
 	 * @param ctx Context
 	 * @return Object
 	 */
@@ -6241,7 +6243,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		stack.push(current);
 
 		try {
-			if (isSorted) { // 
+			if (isSorted) { // 有序
 				int low = 1, high = end;
 				int pos = -1;
 
@@ -6289,7 +6291,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				int first = 0;
 				int last = 0;
 
-				// ҵһʹexp0Ԫص
+				// 找到第一个使exp返回0的元素的索引
 				if (!bOne || !bLast) {
 					first = pos;
 					Next:
@@ -6306,7 +6308,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					}
 				}
 
-				// ҵһʹexp0Ԫص
+				// 找到最后一个使exp返回0的元素的索引
 				if (!bOne || bLast) {
 					last = pos;
 					Next:
@@ -6362,7 +6364,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						}
 					}
 				}
-			} else { // 
+			} else { // 无序
 				Sequence result = bOne ? null : new Sequence();
 				IArray mems = getMems();
 				
@@ -6375,7 +6377,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 							Object flt = fltExps[c].calculate(ctx);
 							if (!Variant.isEquals(flt, vals[c])) {
 								if (continuous) {
-									// ֻҺ
+									// 只找后面连续满足条件的
 									break Next;
 								} else {
 									continue Next;
@@ -6384,7 +6386,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						}
 
 						if (rc) {
-							// Ӻҵһȡһ
+							// 从后面找到第一条满足条件的取到第一个
 							result.add(mems.get(i));
 							for (--i; i > 0; --i) {
 								result.add(mems.get(i));
@@ -6409,7 +6411,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 							Object flt = fltExps[c].calculate(ctx);
 							if (!Variant.isEquals(flt, vals[c])) {
 								if (continuous) {
-									// ֻǰ
+									// 只找前面连续满足条件的
 									break Next;
 								} else {
 									continue Next;
@@ -6418,7 +6420,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						}
 
 						if (rc) {
-							// ҵһȡ
+							// 找到第一条满足条件的取到最后
 							result.add(mems.get(i));
 							for (++i; i <= end; ++i) {
 								result.add(mems.get(i));
@@ -6468,11 +6470,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * شеnûʹnûļΪ
-	 * @param exp Expression ʽ
-	 * @param loc String 
-	 * @param opt String z: oıԭ
-	 * @param ctx Context Ļ
+	 * 返回此序列的n置换，使得n置换的计算列为递增列
+	 * @param exp Expression 计算表达式
+	 * @param loc String 语言
+	 * @param opt String z: 降序，o：改变原序列
+	 * @param ctx Context 计算上下文环境
 	 * @return Sequence
 	 */
 	public Sequence sort(Expression exp, String loc, String opt, Context ctx) {
@@ -6549,11 +6551,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * شеnûʹnûļΪ
-	 * @param exps Expression[] ʽ
-	 * @param loc String 
-	 * @param opt String z: oıԭ
-	 * @param ctx Context Ļ
+	 * 返回此序列的n置换，使得n置换的计算列为递增列
+	 * @param exps Expression[] 计算表达式
+	 * @param loc String 语言
+	 * @param opt String z: 降序，o：改变原序列
+	 * @param ctx Context 计算上下文环境
 	 * @return Sequence
 	 */
 	public Sequence sort(Expression []exps, String loc, String opt, Context ctx) {
@@ -6640,11 +6642,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * նʽͶ˳
-	 * @param exps Expression[] ʽ
-	 * @param orders int[] ˳, 1, -1, 0ԭ
-	 * @param loc String 
-	 * @param opt String oıԭ
+	 * 按照多表达式和多顺序排序
+	 * @param exps Expression[] 表达式数组
+	 * @param orders int[] 顺序数组, 1升序, -1降序, 0原序
+	 * @param loc String 语言
+	 * @param opt String o：改变原序列
 	 * @param ctx Context
 	 * @return Sequence
 	 */
@@ -6724,38 +6726,38 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ȡλ
-	 * ȴСȻѼ¼ֳseqCountΣȡindexεĵһ¼ֵ
+	 * 取中位数函数
+	 * 先从小到大排序，然后把记录分成seqCount段，取第index段的第一个记录值
 	 * 
-	 * @param	seqCount	ֶεĿ
-	 * 				ֶĿΪ0ȡλֶĿΪ1ȡһ
-	 * @param	index		λ, 1ʼķֶ
-	 * 				λñڵ1СڵseqCount
-	 * 				λõ0ʱʾֵΪĬֵ
-	 * @return	ֵ
+	 * @param	seqCount	分段的数目
+	 * 				分段数目为0，取中位数。分段数目为1取第一个数
+	 * @param	index		索引位置, 以1起始的分段索引
+	 * 				索引位置必须大于等于1，小于等于seqCount。
+	 * 				当索引位置等于0时，表示该值为默认值，结果返回序列
+	 * @return	索引到的值
 	 */
 	public Object median(int index, int seqCount) {
-		// Ϊյ
+		// 序列为空的情况
 		if (length() == 0)
 			return null;
 		if (0 == index && 0 == seqCount) {
 			index = 1;
 			seqCount = 2;
 		}
-		// У
+		// 参数校验
 		if (0 > index || index > seqCount || seqCount < 2) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("median" + mm.getMessage("function.invalidParam"));
 		}
 		
-		// 
+		// 排序
 		Sequence seq = sort(null);
 		return seq.median(1, length(), index, seqCount);
 
 	}
 	
 	/**
-	 *  һԪصеβˣ
+	 *  添加一个元素到序列的尾端，不产生新序列
 	 * @param val Object
 	 */
 	public void add(Object val) {
@@ -6763,7 +6765,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ѸеԪӵǰβˣ
+	 * 把给定序列中的所有元素添加到当前序列尾端，不产生新序列
 	 * @param sequence Sequence
 	 */
 	public void addAll(Sequence sequence) {
@@ -6773,7 +6775,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ѶԪӵβˣ
+	 * 把多元素添加到序列尾端，不产生新序列
 	 * @param objs Object[]
 	 */
 	public void addAll(Object []objs) {
@@ -6783,7 +6785,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ϲеݣм򷵻ԭз򷵻
+	 * 合并两个序列的数据，如果序列兼容则返回原序列否则返回新序列
 	 * @param seq
 	 * @return Sequence
 	 */
@@ -6793,10 +6795,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ɾĳһԪ
-	 * @param index λã1ʼС0Ӻ
-	 * @param opt nɾԪأĬϷصǰ
-	 * @return nѡ򷵻ɾԪأ򷵻صǰ
+	 * 删除某一元素
+	 * @param index 位置，从1开始计数，小于0则从后数
+	 * @param opt n：返回删除的元素，默认返回当前序列
+	 * @return 如果有n选项则返回删除的元素，否则返回当前序列
 	 */
 	public Object delete(int index, String opt) {
 		int oldLen = length();
@@ -6822,9 +6824,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ɾĳһԪ
-	 * @param index int λã1ʼС0Ӻ
-	 * @return رɾԪ
+	 * 删除某一元素
+	 * @param index int 位置，从1开始计数，小于0则从后数
+	 * @return 返回被删除的元素
 	 */
 	public void delete(int index) {
 		int oldLen = length();
@@ -6843,9 +6845,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ɾָڵԪ
-	 * @param from int ʼλã
-	 * @param to int λã
+	 * 删除指定区间内的元素
+	 * @param from int 起始位置，包含
+	 * @param to int 结束位置，包含
 	 */
 	public void delete(int from, int to) {
 		if (from < 1 || to < from || to > length()) {
@@ -6857,9 +6859,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * λɾԪ
-	 * @param sequence Sequence ԪԪعɵ
-	 * @param opt String n رɾԪعɵ
+	 * 按位置删除多个元素
+	 * @param sequence Sequence 元素索引或元素构成的序列
+	 * @param opt String n 返回被删的元素构成的序列
 	 */
 	public Sequence delete(Sequence sequence, String opt) {
 		if (sequence == null || sequence.length() == 0) {
@@ -6900,7 +6902,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				}
 			}
 
-			// 
+			// 对索引进行排序
 			Arrays.sort(index);
 			
 			if (opt == null || opt.indexOf('n') == -1) {
@@ -6970,8 +6972,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ɾֵֶΪյļ¼
-	 * @param f ֶ
+	 * 删除字段值为空的记录
+	 * @param f 字段序号
 	 */
 	public void deleteNullFieldRecord(int f) {
 		IArray mems = getMems();
@@ -7003,16 +7005,16 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ɾֵֶΪյļ¼
-	 * @param f ֶ
+	 * 删除字段值为空的记录
+	 * @param f 字段序号
 	 */
 	public void deleteNullFieldRecord(String fieldName) {
 		IArray mems = getMems();
 		int len = mems.size();
 		int nullCount = 0;
 		
-		int col = -1; // ֶһ¼
-		BaseRecord prevRecord = null; // һ¼
+		int col = -1; // 字段在上一条记录的索引
+		BaseRecord prevRecord = null; // 上一条记录
 
 		for (int i = 1; i <= len; ++i) {
 			Object obj = mems.get(i);
@@ -7066,14 +7068,14 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 	}
 	
-	// Table̳˴˷ɾԪʱ´
+	// Table继承了此方法，用于增删元素时重新创建索引
 	public void rebuildIndexTable() {
 	}
 
 	/**
-	 * ָڵ
-	 * @param start int ʼλã
-	 * @param end int λã
+	 * 保留指定区间内的数据
+	 * @param start int 起始位置（包含）
+	 * @param end int 结束位置（包含）
 	 */
 	public void reserve(int start, int end) {
 		int size = length();
@@ -7102,9 +7104,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ָԪط
-	 * @param from int ʼλã
-	 * @param to int λã
+	 * 把指定区间元素分离出来
+	 * @param from int 起始位置，包含
+	 * @param to int 结束位置，包含
 	 * @return Sequence
 	 */
 	public Sequence split(int from, int to) {
@@ -7117,18 +7119,18 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * дָλò
-	 * @param pos λã
-	 * @return غ벿Ԫعɵ
+	 * 把序列从指定位置拆成两个序列
+	 * @param pos 位置，包含
+	 * @return 返回后半部分元素构成的序列
 	 */
 	public Sequence split(int pos) {
 		return new Sequence(getMems().split(pos));
 	}
 	
 	/**
-	 * ָλòһԪ
-	 * @param pos int    λã1ʼ0ʾ׷ӣС0Ӻ
-	 * @param val Object ҪӵԪػԪعɵ
+	 * 在指定位置插入一个或多个元素
+	 * @param pos int    位置，从1开始计数，0表示追加，小于0则从后数
+	 * @param val Object 需要添加的元素或多个元素构成的序列
 	 */
 	public void insert(int pos, Object val) {
 		IArray mems = getMems();
@@ -7155,7 +7157,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * 룬ԪѴ򲻲
+	 * 有序插入，如果元素已存在则不插入
 	 * @param val
 	 */
 	public void sortedInsert(Object val) {
@@ -7178,10 +7180,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ޸ĴposʼһԪ
-	 * @param pos int λã1ʼС0Ӻ
-	 * @param val Object һԪ
-	 * @param opt String n ر޸ĵԪعɵ
+	 * 修改从pos开始的一个或多个元素
+	 * @param pos int 位置，从1开始计数，小于0则从后数
+	 * @param val Object 一个或多个元素
+	 * @param opt String n 返回被修改的元素构成的序列
 	 */
 	public Object modify(int pos, Object val, String opt) {
 		IArray mems = getMems();
@@ -7239,8 +7241,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ǰΪУس
-	 * @return 
+	 * 当前序列为数列，返回成整数数组
+	 * @return 整数数组
 	 */
 	public int[] toIntArray() {
 		IArray mems = getMems();
@@ -7260,7 +7262,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ޸ԪصֵԽλԶ
+	 * 修改序列元素的值，越位自动补
 	 * @param pos int
 	 * @param obj Object
 	 */
@@ -7279,10 +7281,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ָԪأ
-	 * @param iseq1 Sequence 1
-	 * @param iseq2 Sequence 2
-	 * @return Sequence 
+	 * 交换两个数据区间指定的序列区间的元素，产生新序列
+	 * @param iseq1 Sequence 数据区间1
+	 * @param iseq2 Sequence 数据区间2
+	 * @return Sequence 返回新序列
 	 */
 	public Sequence swap(Sequence iseq1, Sequence iseq2) {
 		if (iseq1 == null || iseq2 == null) {
@@ -7327,7 +7329,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			throw new RQException(mm.getMessage("engine.indexOutofBound"));
 		}
 
-		// [s1:e1][s2:e2]򽻻
+		// 如果区间[s1:e1]在区间[s2:e2]后面则交换它们
 		if (s1 > s2) {
 			int temp = s1;
 			s1 = s2;
@@ -7346,27 +7348,27 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		Sequence result = new Sequence(total);
 		IArray resultMems = result.getMems();
 
-		// 1֮ǰ
+		// 拷贝区间1之前的
 		for (int i = 1; i < s1; ++i) {
 			resultMems.add(mems.get(i));
 		}
 
-		// 2
+		// 拷贝区间2的
 		for (int i = s2; i <= e2; ++i) {
 			resultMems.add(mems.get(i));
 		}
 
-		// 12֮
+		// 拷贝区间1和区间2之间的
 		for (int i = e1 + 1; i < s2; ++i) {
 			resultMems.add(mems.get(i));
 		}
 
-		// 1
+		// 拷贝区间1的
 		for (int i = s1; i <= e1; ++i) {
 			resultMems.add(mems.get(i));
 		}
 
-		// 2֮
+		// 拷贝区间2之后的
 		for (int i = e2 + 1; i <= total; ++i) {
 			resultMems.add(mems.get(i));
 		}
@@ -7375,10 +7377,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * 뵽nѡm뵽nıԴгȴn򷵻Դ
-	 * @param val Object ҪԪػԪعɵ
-	 * @param n Integer ĳȺ󳤶ȵı
-	 * @param opt String m뵽nıl߲
+	 * 补齐到n个，如果带选项m则补齐到n的倍数，如果源序列长度大于n则返回源序列
+	 * @param val Object 需要补的元素或元素构成的序列
+	 * @param n Integer 补齐后的长度后长度的倍数
+	 * @param opt String m：补齐到n的倍数，l：在左边补
 	 * @return Sequence
 	 */
 	public Sequence pad(Object val, int n, String opt) {
@@ -7432,7 +7434,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				return result;
 			} else if (count == 1) {
 				val = seq.getMem(1);
-			} // ԪؿʱӿУ
+			} // 元素空时添加空序列？
 		}
 
 		if (opt == null || opt.indexOf('l') == -1) {
@@ -7452,10 +7454,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ɽֶƣʡnameݱʽ
-	 * @param exps ʽ
-	 * @param names ֶ飬ʡֶݱʽ
-	 * @param funcName ׳쳣Ϣ
+	 * 用于生成结果集字段名称，如果省略了name则根据表达式来生成
+	 * @param exps 计算表达式数组
+	 * @param names 字段名数组，如果省略了字段名则根据表达式来生成
+	 * @param funcName 函数名，用于抛出异常信息
 	 */
 	public void getNewFieldNames(Expression[] exps, String[] names, String funcName) {
 		int colCount = exps.length;
@@ -7478,9 +7480,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ΪԴ
-	 * @param names String[] 
-	 * @param exps Expression[] бʽ
+	 * 为源排列添加列
+	 * @param names String[] 列名
+	 * @param exps Expression[] 列表达式
 	 * @param ctx Context
 	 */
 	public Table newTable(String[] names, Expression[] exps, Context ctx) {
@@ -7488,10 +7490,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ΪԴ
-	 * @param names String[] 
-	 * @param exps Expression[] бʽ
-	 * @param opt String m߳㣬iʽΪnullǲɸ¼
+	 * 为源排列添加列
+	 * @param names String[] 列名
+	 * @param exps Expression[] 列表达式
+	 * @param opt String m：多线程运算，i：表达式计算结果为null是不生成该条记录
 	 * @param ctx Context
 	 */
 	public Table newTable(String[] names, Expression[] exps, String opt, Context ctx) {
@@ -7510,12 +7512,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * дһ
-	 * @param ds ݽṹ
-	 * @param exps ֶμʽ
-	 * @param opt iбʽΪʱɸм¼
-	 * @param ctx 
-	 * @return ²
+	 * 由序列创建出一个新序表
+	 * @param ds 新序表的数据结构
+	 * @param exps 新序表的字段计算表达式数组
+	 * @param opt i：有表达式计算结果为空时不生成该行记录
+	 * @param ctx 计算上下文
+	 * @return 新产生的序表
 	 */
 	public Table newTable(DataStruct ds, Expression[] exps, String opt, Context ctx) {
 		int len = length();
@@ -7554,7 +7556,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						if (obj != null) {
 							r.setNormalFieldValue(c, obj);
 						} else {
-							// ʽ²ļ¼ҪȲ¼ɾ¼
+							// 计算表达式可能依赖于新产生的记录，所以要先产生记录，不满足条件再删除记录
 							resultMems.remove(q);
 							continue Next;
 						}
@@ -7572,13 +7574,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еֵֶϲ
-	 * @param gexp ֵΪеıʽ
-	 * @param exps ʽ
-	 * @param ds ݽṹ
-	 * @param opt 1gexpΪʱһ¼Ĭϲ
-	 * @param ctx 
-	 * @return 
+	 * 计算排列的字段值合并生成新序表
+	 * @param gexp 返回值为序列的表达式
+	 * @param exps 结果集表达式数组
+	 * @param ds 结果集数据结构
+	 * @param opt 1：gexp为空时生成一条记录，默认不生成
+	 * @param ctx 计算上下文
+	 * @return 序表
 	 */
 	public Table newTables(Expression gexp, Expression[] exps, DataStruct ds, String opt, Context ctx) {
 		int len = length();
@@ -7590,7 +7592,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		boolean isLeft = opt != null && opt.indexOf('1') != -1;
 		Sequence ns = null;
 		if (isLeft) {
-			// ҳʽXֶΣһֵļ¼XȡֵΪnullʱ¼ѹջ
+			// 如果是左连接则找出表达式中引用X的字段，生成一条空值的记录在X取值为null时把这条记录压栈
 			ArrayList<String> fieldList = new ArrayList<String>();
 			for (Expression exp : exps) {
 				exp.getUsedFields(ctx, fieldList);
@@ -7621,7 +7623,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 		}
 		
-		// Ȱ²ѹջֹòԴ
+		// 先把新产生的序表压栈，防止引用不到源序表
 		ComputeStack stack = ctx.getComputeStack();
 		Current resultCurrent = new Current(result);
 		Current current = new Current(this);
@@ -7698,13 +7700,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * еֵֶϲ
-	 * @param gexp ֵΪеıʽ
-	 * @param names ֶ
-	 * @param exps ʽ
-	 * @param opt 1gexpΪʱһ¼Ĭϲ
-	 * @param ctx 
-	 * @return 
+	 * 计算排列的字段值合并生成新序表
+	 * @param gexp 返回值为序列的表达式
+	 * @param names 结果集字段名数组
+	 * @param exps 结果集表达式数组
+	 * @param opt 1：gexp为空时生成一条记录，默认不生成
+	 * @param ctx 计算上下文
+	 * @return 序表
 	 */
 	public Table newTables(Expression gexp, String[] names, Expression[] exps, String opt, Context ctx) {
 		if (names == null || exps == null || names.length != exps.length) {
@@ -7746,8 +7748,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еתһԱΪֶɵ
-	 * @return 
+	 * 把序列的序列转成序表，第一个成员为字段名构成的序列
+	 * @return 序表
 	 */
 	public Table toTable() {
 		IArray mems = getMems();
@@ -7794,8 +7796,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * Ƽ¼
-	 * @param opt oƼ¼
+	 * 复制记录产生新序表
+	 * @param opt o：不复制记录
 	 * @return
 	 */
 	public Table derive(String opt) {
@@ -7807,7 +7809,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				return null;
 			}
 			
-			// Եһ¼ĽṹΪ׼
+			// 以第一条记录的结构为准
 			Object val = mems.get(1);
 			if (val instanceof BaseRecord) {
 				ds = ((BaseRecord)val).dataStruct();
@@ -7817,7 +7819,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				MessageManager mm = EngineMessage.get();
 				throw new RQException(mm.getMessage("engine.needPurePmt"));
 			} else {
-				// ݽṹֹ޸±ݽṹӰԴṹ
+				// 复制数据结构，防止修改新表数据结构是影响源结构
 				ds = ds.dup();
 			}
 			
@@ -7832,7 +7834,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			return newTable(ds, exps, null, ctx);
 		}
 
-		// ݽṹֹ޸±ݽṹӰԴṹ
+		// 复制数据结构，防止修改新表数据结构是影响源结构
 		ds = ds.dup();
 		Table table = new Table(ds, len);
 		if (opt == null || opt.indexOf('o') == -1) {
@@ -7854,11 +7856,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * Դеֶָչ
-	 * @param newDs ݽṹ
-	 * @param exps ׷ӵֵֶʽ
-	 * @param opt  ѡ
-	 * @param ctx 
+	 * 把源表中的指引字段展开
+	 * @param newDs 结果集数据结构
+	 * @param exps 追加的字段值表达式
+	 * @param opt  选项
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Table derive(DataStruct newDs, Expression []exps, String opt, Context ctx) {
@@ -7867,7 +7869,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		int colCount = exps.length;
 		int oldColCount = newDs.getFieldCount() - colCount;
 
-		// ϲֶ
+		// 合并字段
 		Table table = new Table(newDs, len);
 		IArray resultMems = table.getMems();
 
@@ -7887,7 +7889,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					newCurrent.setCurrent(i);
 					current.setCurrent(i);
 
-					// ֶ
+					// 计算新字段
 					for (int c = 0; c < colCount; ++c) {
 						r.setNormalFieldValue(c + oldColCount, exps[c].calculate(ctx));
 					}
@@ -7902,13 +7904,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					newCurrent.setCurrent(q);
 					current.setCurrent(i);
 
-					// ֶ
+					// 计算新字段
 					for (int c = 0; c < colCount; ++c) {
 						Object obj = exps[c].calculate(ctx);
 						if (obj != null) {
 							r.setNormalFieldValue(c + oldColCount, obj);
 						} else {
-							resultMems.remove(q); // exps²ļ¼
+							resultMems.remove(q); // 计算exps可能依赖于新产生的记录
 							continue Next;
 						}
 					}
@@ -7925,10 +7927,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ΪԴ
-	 * @param names String[] Ҫӵ
-	 * @param exps Expression[] Ҫӵеıʽ
-	 * @param opt String m߳㣬iʽΪnullǲɸ¼
+	 * 为源排列添加列
+	 * @param names String[] 需要添加的列
+	 * @param exps Expression[] 需要添加的列的表达式
+	 * @param opt String m：多线程运算，i：表达式计算结果为null是不生成该条记录
 	 * @param ctx Context
 	 */
 	public Table derive(String []names, Expression []exps, String opt, Context ctx) {
@@ -7946,7 +7948,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				return null;
 			}
 			
-			// Եһ¼ĽṹΪ׼
+			// 以第一条记录的结构为准
 			Object val = mems.get(1);
 			if (val instanceof BaseRecord) {
 				ds = ((BaseRecord)val).dataStruct();
@@ -7991,13 +7993,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		String []oldNames = ds.getFieldNames();
 		int oldColCount = oldNames.length;
 
-		// ϲֶ
+		// 合并字段
 		int newColCount = oldColCount + colCount;
 		String []totalNames = new String[newColCount];
 		System.arraycopy(oldNames, 0, totalNames, 0, oldColCount);
 		System.arraycopy(names, 0, totalNames, oldColCount, colCount);
 
-		// м¼ֶΣԱļ¼ǰ¼ֶ
+		// 给所有记录增加字段，以便后计算的记录可以引用前面记录的字段
 		DataStruct newDs = ds.create(totalNames);
 		Table table = new Table(newDs, len);
 		IArray resultMems = table.getMems();
@@ -8018,7 +8020,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					newCurrent.setCurrent(i);
 					current.setCurrent(i);
 
-					// ֶ
+					// 计算新字段
 					for (int c = 0; c < colCount; ++c) {
 						r.setNormalFieldValue(c + oldColCount, exps[c].calculate(ctx));
 					}
@@ -8033,13 +8035,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					newCurrent.setCurrent(q);
 					current.setCurrent(i);
 
-					// ֶ
+					// 计算新字段
 					for (int c = 0; c < colCount; ++c) {
 						Object obj = exps[c].calculate(ctx);
 						if (obj != null) {
 							r.setNormalFieldValue(c + oldColCount, obj);
 						} else {
-							resultMems.remove(q); // exps²ļ¼
+							resultMems.remove(q); // 计算exps可能依赖于新产生的记录
 							continue Next;
 						}
 					}
@@ -8056,12 +8058,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * Դеֶָչ
-	 * @param names ׷ӵֶ
-	 * @param exps ׷ӵֵֶʽ
+	 * 把源表中的指引字段展开
+	 * @param names 追加的字段名
+	 * @param exps 追加的字段值表达式
 	 * @param opt 
 	 * @param ctx
-	 * @param level ȱʡ2
+	 * @param level 层数，缺省2
 	 * @return
 	 */
 	public Table derive(String []names, Expression []exps, String opt, Context ctx, int level) {
@@ -8118,7 +8120,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		return newTable(totalNames, totalExps, opt, ctx);
 	}
 	
-	// ݹȡеֶͨñʽ
+	// 递归取得所有的普通字段名和引用表达式
 	private static void getField(BaseRecord r, String prevField, String prevFieldName, int curLevel, int totalLevel, 
 			Context ctx, ArrayList<String> nameList, ArrayList<Expression> expList) {
 		String []srcFieldNames = r.getFieldNames();
@@ -8153,12 +8155,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * objĸ
+	 * 返回obj属于哪个分组
 	 * @param obj Object
-	 * @param opt String rظķ
+	 * @param opt String r：可能重复的分组
 	 * @param ctx Context
 	 * @param cs ICellSet
-	 * @return Object ĵķŻŹɵ
+	 * @return Object 对象所属的的分组序号或多分组序号构成的序列
 	 */
 	public Object penum(Object obj, String opt, Context ctx, ICellSet cs) {
 		int len = length();
@@ -8183,7 +8185,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 				String temp = (String)idgVal;
 				if (temp == null || temp.length() == 0) {
-					if (i != len) { // һʽɿ
+					if (i != len) { // 最后一组表达式可空
 						MessageManager mm = EngineMessage.get();
 						throw new RQException(mm.getMessage("engine.enumFilterNull"));
 					}
@@ -8208,7 +8210,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				}
 			}
 		} finally {
-			stack.pop(); // гջ
+			stack.pop(); // 序列出栈
 		}
 
 		if (isRepeat) {
@@ -8239,10 +8241,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ָöжнз
-	 * @param filters Sequence öٱʽ
-	 * @param argExp Expression õĲ
-	 * @param opt String nûжӦķ飬rظö٣ȱʡΪöٲظpλ
+	 * 按指定枚举排列对序列进行分组
+	 * @param filters Sequence 枚举表达式序列
+	 * @param argExp Expression 分组条件用到的参数
+	 * @param opt String n：没有对应的放在其它组，r：可能重复的枚举，缺省认为枚举不重复，p：返回位置
 	 * @param ctx Context
 	 * @param cs ICellSet
 	 * @return Sequence
@@ -8261,7 +8263,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			if (opt.indexOf('n') != -1)isNull = true;
 		}
 
-		// ua
+		// 计算分组条件ua
 		IArray filterMems = filters.getMems();
 		int fsize = filterMems.size();
 		Expression[] enumFilter = new Expression[fsize + 2];
@@ -8274,7 +8276,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 			String temp = (String)idgVal;
 			if (temp == null || temp.length() == 0) {
-				if (i != fsize) { // һʽɿ
+				if (i != fsize) { // 最后一组表达式可空
 					MessageManager mm = EngineMessage.get();
 					throw new RQException(mm.getMessage("engine.enumFilterNull"));
 				}
@@ -8298,20 +8300,20 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			Sequence arg = new Sequence(1);
 			arg.add(null);
 
-			Sequence[] groups = new Sequence[fsize + 1]; // ¼
+			Sequence[] groups = new Sequence[fsize + 1]; // 分组后纪录
 			for (int i = 1; i <= fsize; ++i) {
 				groups[i] = new Sequence();
 				result.add(groups[i]);
 			}
 
-			if (enumFilter[fsize] == null) { // һ
-				for (int i = 1; i <= selLen; ++i) { // ҪзеԪ
+			if (enumFilter[fsize] == null) { // 最后一组是其它分组
+				for (int i = 1; i <= selLen; ++i) { // 要进行分组的序列的元素
 					current.setCurrent(i);
 					arg.set(1, argExp.calculate(ctx));
 					stack.pushArg(arg);
 					try {
 						boolean bAdd = false;
-						for (int s = 1; s < fsize; ++s) { // 
+						for (int s = 1; s < fsize; ++s) { // 分组条件
 							Object value = enumFilter[s].calculate(ctx);
 							if (Variant.isTrue(value)) {
 								if (!bPos) {
@@ -8336,16 +8338,16 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 						}
 
 					} finally {
-						stack.popArg(); // ջ
+						stack.popArg(); // 参数出栈
 					}
 				}
 			} else {
-				for (int i = 1; i <= selLen; ++i) { // ҪзеԪ
+				for (int i = 1; i <= selLen; ++i) { // 要进行分组的序列的元素
 					current.setCurrent(i);
 					arg.set(1, argExp.calculate(ctx));
 					stack.pushArg(arg);
 					try {
-						for (int s = 1; s <= fsize; ++s) { // 
+						for (int s = 1; s <= fsize; ++s) { // 分组条件
 							Object value = enumFilter[s].calculate(ctx);
 							if (Variant.isTrue(value)) {
 								if (!bPos) {
@@ -8359,22 +8361,22 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 							}
 						}
 					} finally {
-						stack.popArg(); // ջ
+						stack.popArg(); // 参数出栈
 					}
 				}
 			}
 		} finally {
-			stack.pop(); // гջ
+			stack.pop(); // 序列出栈
 		}
 
 		return result;
 	}
 
 	/**
-	 * ָнж
-	 * @param exp Expression ȶԱʽ
-	 * @param target Sequence Դ
-	 * @param opt String selectѡ
+	 * 按照指定序列进行对齐
+	 * @param exp Expression 比对表达式
+	 * @param target Sequence 源序列
+	 * @param opt String select的选项
 	 * @param ctx Context
 	 * @return Sequence
 	 */
@@ -8458,7 +8460,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				}
 			}
 			return result;
-		} else { // ֻѡһԪ
+		} else { // 只选择第一个满足条件的元素
 			Object[] retVals = new Object[tgtSize];
 			for (int i = 1; i <= valSize; ++i) {
 				Object val = valMems.get(i);
@@ -8483,10 +8485,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * nнж
-	 * @param exp Expression ȶԱʽ
-	 * @param n 
-	 * @param opt String selectѡ
+	 * 按照n对序列进行对齐
+	 * @param exp Expression 比对表达式
+	 * @param n 数量
+	 * @param opt String select的选项
 	 * @param ctx Context
 	 * @return Sequence
 	 */
@@ -8514,7 +8516,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				resultVals[i] = new Sequence(4);
 			}
 
-			if (isRepeat) { // expķֵΪλ
+			if (isRepeat) { // exp的返回值为位置序列
 				for (int i = 1; i <= valSize; ++i) {
 					Object val = valMems.get(i);
 					if (val == null) {
@@ -8558,7 +8560,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 			
 			return new Sequence(resultVals);
-		} else { // ֻѡһԪ
+		} else { // 只选择第一个满足条件的元素
 			Object[] resultVals = new Object[n];
 			for (int i = 1; i <= valSize; ++i) {
 				Object val = valMems.get(i);
@@ -8584,8 +8586,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * н
-	 * @param opt String oֻڵĶԱȣ1: ֻÿĵһ, uh@o
+	 * 对序列进行排序分组
+	 * @param opt String o：只和相邻的对比，1: 只返回每组的第一条, u：结果集不排序，h：先排序再用@o计算
 	 * @return Sequence
 	 */
 	public Sequence group(String opt) {
@@ -8626,7 +8628,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			return new Sequence(0);
 		}
 
-		Sequence result = new Sequence(size / 4); // 
+		Sequence result = new Sequence(size / 4); // 分组后序列
 		IArray resultMems = result.getMems();
 		Object prev = mems.get(1);
 
@@ -8640,7 +8642,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				if (Variant.isEquals(prev, cur)) {
 					group.add(cur);
 				} else {
-					// 
+					// 新组
 					prev = cur;
 					group = new Sequence(7);
 					group.add(cur);
@@ -8653,7 +8655,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				Object cur = mems.get(i);
 
 				if (!Variant.isEquals(prev, cur)) {
-					// 
+					// 新组
 					prev = cur;
 					resultMems.add(cur);
 				}
@@ -8664,16 +8666,16 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * expн
-	 * @param exp Expression ʽ
-	 * @param opt String oֻڵĶԱȣnȡֵΪţ1: ֻÿĵһ, uiʽh@o
-	 * pԱλã1: ֻÿĵһ, z
-	 * @param ctx Context Ļ
+	 * 根据exp对序列进行排序分组
+	 * @param exp Expression 分组计算表达式
+	 * @param opt String o：只和相邻的对比，n：取值为分组序号，1: 只返回每组的第一条, u：结果集不排序，i：布尔表达式，h：先排序再用@o计算
+	 * p：返回组员位置，1: 只返回每组的第一条, z：降序
+	 * @param ctx Context 计算上下文环境
 	 * @return Sequence
 	 */
 	public Sequence group(Expression exp, String opt, Context ctx) {
 		if (opt == null) {
-			// #%3ڰ#ıʽڷʽ#Ż
+			// #%3对于包含#的表达式，先排序再在分组里计算表达式#会算错，不再优化了
 			//if (length() > SORT_HASH_LEN) {
 				return CursorUtil.hashGroup(this, new Expression[]{exp}, opt, ctx);
 			//} else {
@@ -8707,7 +8709,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			return new Sequence(0);
 		}
 
-		Sequence result = new Sequence(size / 4); // 
+		Sequence result = new Sequence(size / 4); // 分组后序列
 		IArray resultMems = result.getMems();
 
 		ComputeStack stack = ctx.getComputeStack();
@@ -8722,7 +8724,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			for (int i = 2; i <= size; ++i) {
 				current.setCurrent(i);
 				if (Variant.isTrue(exp.calculate(ctx))) {
-					// 
+					// 新组
 					group = new Sequence(7);
 					group.add(mems.get(i));
 					resultMems.add(group);
@@ -8746,7 +8748,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 		Object prevValue;
 		Object curValue;
-		Sequence result = new Sequence(size / 4); // 
+		Sequence result = new Sequence(size / 4); // 分组后序列
 		IArray resultMems = result.getMems();
 
 		ComputeStack stack = ctx.getComputeStack();
@@ -8769,7 +8771,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					if (Variant.isEquals(prevValue, curValue)) {
 						group.add(mems.get(i));
 					} else {
-						// 
+						// 新组
 						prevValue = curValue;
 						group = new Sequence(7);
 						group.add(mems.get(i));
@@ -8783,7 +8785,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					curValue = exp.calculate(ctx);
 
 					if (!Variant.isEquals(prevValue, curValue)) {
-						// 
+						// 新组
 						prevValue = curValue;
 						resultMems.add(mems.get(i));
 					}
@@ -8797,7 +8799,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	private Sequence group_o(Expression []exps, String opt, Context ctx) {
-		// 
+		// 有序分组
 		int keyCount = exps.length;
 		IArray mems = getMems();
 		int size = mems.size();
@@ -8807,7 +8809,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 		Object []prevValues = new Object[keyCount];
 		Object []curValues = new Object[keyCount];
-		Sequence result = new Sequence(size / 4); // 
+		Sequence result = new Sequence(size / 4); // 分组后序列
 		IArray resultMems = result.getMems();
 
 		ComputeStack stack = ctx.getComputeStack();
@@ -8834,7 +8836,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					if (Variant.compareArrays(prevValues, curValues) == 0) {
 						group.add(mems.get(i));
 					} else {
-						// 
+						// 新组
 						Object []tmp = prevValues;
 						prevValues = curValues;
 						curValues = tmp;
@@ -8853,7 +8855,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					}
 
 					if (Variant.compareArrays(prevValues, curValues) != 0) {
-						// 
+						// 新组
 						Object []tmp = prevValues;
 						prevValues = curValues;
 						curValues = tmp;
@@ -8877,7 +8879,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			return new Sequence(0);
 		}
 
-		Sequence result = new Sequence(size / 4); // 
+		Sequence result = new Sequence(size / 4); // 分组后序列
 		IArray resultMems = result.getMems();
 		int len = 0;
 
@@ -8904,7 +8906,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 						len = index;
 					} else if (index < 1) {
-						// С1ķŹҪˣٱֵκһ
+						// 碰到小于1的放过不要了，不再报错，不分到任何一组里
 						continue;
 						//MessageManager mm = EngineMessage.get();
 						//throw new RQException(index + mm.getMessage("engine.indexOutofBound"));
@@ -8937,7 +8939,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 						len = index;
 					} else if (index < 1) {
-						// С1ķŹҪˣٱֵκһ
+						// 碰到小于1的放过不要了，不再报错，不分到任何一组里
 						continue;
 					}
 
@@ -8964,7 +8966,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			return new Sequence(0);
 		}
 
-		Sequence result = new Sequence(size / 4); // 
+		Sequence result = new Sequence(size / 4); // 分组后序列
 		IArray resultMems = result.getMems();
 		int len = 0;
 
@@ -8985,7 +8987,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 					len = index;
 				} else if (index < 1) {
-					// С1ķŹҪˣٱֵκһ
+					// 碰到小于1的放过不要了，不再报错，不分到任何一组里
 					continue;
 					//MessageManager mm = EngineMessage.get();
 					//throw new RQException(index + mm.getMessage("engine.indexOutofBound"));
@@ -9017,7 +9019,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 					len = index;
 				} else if (index < 1) {
-					// С1ķŹҪˣٱֵκһ
+					// 碰到小于1的放过不要了，不再报错，不分到任何一组里
 					continue;
 					//MessageManager mm = EngineMessage.get();
 					//throw new RQException(index + mm.getMessage("engine.indexOutofBound"));
@@ -9037,10 +9039,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ݶʽн
-	 * @param exps Expression[] ʽ
-	 * @param opt String oֻڵĶԱȣ1: ֻÿĵһ, uh@o
-	 * @param ctx Context Ļ
+	 * 根据多表达式对序列进行排序分组
+	 * @param exps Expression[] 分组计算表达式
+	 * @param opt String o：只和相邻的对比，1: 只返回每组的第一条, u：结果集不排序，h：先排序再用@o计算
+	 * @param ctx Context 计算上下文环境
 	 * @return Sequence
 	 */
 	public Sequence group(Expression[] exps, String opt, Context ctx) {
@@ -9069,12 +9071,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ͳƣֵͻֵɵ
-	 * @param exps Expression[] ʽ
-	 * @param names String[] ֶڽеֶ
-	 * @param calcExps Expression[] ܱʽ﷨~.f
-	 * @param calcNames String[] ֶڽеֶ
-	 * @param opt String oֻڵĶԱȣnʽȡֵΪţubȥֶ
+	 * 分组统计，返回组值和汇总值构成的序表
+	 * @param exps Expression[] 分组表达式
+	 * @param names String[] 分组字段在结果序表中的字段名
+	 * @param calcExps Expression[] 汇总表达式，语法~.f（）
+	 * @param calcNames String[] 汇总字段在结果序表中的字段名
+	 * @param opt String o：只和相邻的对比，n：分组表达式取值为组号，u：结果集不排序，b：结果集去掉分组字段
 	 * @param ctx Context
 	 * @return Table
 	 */
@@ -9127,7 +9129,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 		Sequence groups = group(exps, opt, ctx);
 		
-		// ֶ
+		// 结果集不带分组字段
 		if (opt != null && opt.indexOf('b') != -1) {
 			return groups.newTable(calcNames, calcExps, ctx);
 		}
@@ -9154,7 +9156,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		Current current = new Current(keyGroups);
 		stack.push(current);
 
-		// ֵֶ
+		// 计算分组字段值
 		try {
 			for (int i = 1; i <= len; ++i) {
 				BaseRecord r = result.newLast();
@@ -9170,7 +9172,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		current = new Current(groups);
 		stack.push(current);
 
-		// ۺֵֶ
+		// 计算聚合字段值
 		try {
 			for (int i = 1; i <= len; ++i) {
 				BaseRecord r = (BaseRecord)result.getMem(i);
@@ -9229,8 +9231,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ãavgֵ
-	 * @param gathers ܱʽ
+	 * 分组运算结束后调用，用于设置avg这类运算的值
+	 * @param gathers 汇总表达式
 	 */
 	public void finishGather(Node[]gathers) {
 		if (gathers == null || length() == 0) return;
@@ -9264,8 +9266,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ̷߳һλܽ
-	 * @param gathers ܱʽ
+	 * 多线程分组运算第一次汇总结束后调用
+	 * @param gathers 汇总表达式
 	 */
 	public void finishGather1(Node[]gathers) {
 		if (gathers == null || length() == 0) return;
@@ -9313,8 +9315,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡ¼ݽṹһԪزǼ¼򷵻null
-	 * @return ¼ݽṹ
+	 * 取首条记录的数据结构，如果第一个元素不是记录则返回null
+	 * @return 记录的数据结构
 	 */
 	public DataStruct getFirstRecordDataStruct() {
 		if (length() > 0) {
@@ -9328,19 +9330,19 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * תת
-	 * @param gexps ʽ
-	 * @param gnames ֶ
-	 * @param fexp ֶ
-	 * @param vexp ȡֵֶεĻܱʽ
-	 * @param nexps ֵ
-	 * @param nameObjects ֶ
-	 * @param ctx 
-	 * @return 
+	 * 对排列做行转列转换并汇总
+	 * @param gexps 分组表达式数组
+	 * @param gnames 分组字段名数组
+	 * @param fexp 分类字段
+	 * @param vexp 取值字段的汇总表达式
+	 * @param nexps 分类值
+	 * @param nameObjects 结果集字段名
+	 * @param ctx 计算上下文
+	 * @return 序表
 	 */
 	public Table pivotGather(Expression[] gexps, String []gnames, Expression fexp, Expression vexp, 
 			Expression []nexps, Object []nameObjects, Context ctx) {
-		int nullIndex = -1; // ʡNi򵱳
+		int nullIndex = -1; // 省略了Ni则当成其它分组
 		Object []vals;
 		String []names;
 		if (nexps == null) {
@@ -9460,15 +9462,15 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * תת
-	 * @param gexps ʽ
-	 * @param gnames ֶ
-	 * @param fexp ֶ
-	 * @param vexp ȡֵֶ
-	 * @param nexps ֵ
-	 * @param nameObjects ֶ
-	 * @param ctx 
-	 * @return 
+	 * 对排列做行转列转换
+	 * @param gexps 分组表达式数组
+	 * @param gnames 分组字段名数组
+	 * @param fexp 分类字段
+	 * @param vexp 取值字段
+	 * @param nexps 分类值
+	 * @param nameObjects 结果集字段名
+	 * @param ctx 计算上下文
+	 * @return 序表
 	 */
 	public Table pivot(Expression[] gexps, String []gnames, Expression fexp, Expression vexp, 
 			Expression []nexps, Object []nameObjects, String opt, Context ctx) {
@@ -9565,15 +9567,15 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * תת
-	 * @param gexps ʽ
-	 * @param gnames ֶ
-	 * @param fname ֶ
-	 * @param vname ֵֶ
-	 * @param nexps ֵʽ
-	 * @param nameObjects ֵʽ
-	 * @param ctx 
-	 * @return 
+	 * 对排列做列转行转换
+	 * @param gexps 分组表达式数组
+	 * @param gnames 分组字段名数组
+	 * @param fname 结果集分类字段名
+	 * @param vname 结果集值字段名
+	 * @param nexps 分类值表达式
+	 * @param nameObjects 结果集分类值表达式
+	 * @param ctx 计算上下文
+	 * @return 序表
 	 */
 	public Table unpivot(Expression[] gexps, String []gnames, String fname, String vname, 
 			Expression []nexps, Object []nameObjects, Context ctx) {
@@ -9664,13 +9666,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡ
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 取分组计算对象
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return IGroupsResult
 	 */
 	public IGroupsResult getGroupsResult(Expression[] exps, String[] names, Expression[] calcExps, 
@@ -9679,12 +9681,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ͳ
-	 * @param exps Expression[] ʽ
-	 * @param names String[] ֶڽеֶ
-	 * @param calcExps Expression[] ܱʽ
-	 * @param calcNames String[] ֶڽеֶ
-	 * @param opt String oֻڵĶԱȣnʽȡֵΪţuh@o
+	 * 分组统计
+	 * @param exps Expression[] 分组表达式
+	 * @param names String[] 分组字段在结果序表中的字段名
+	 * @param calcExps Expression[] 汇总表达式
+	 * @param calcNames String[] 汇总字段在结果序表中的字段名
+	 * @param opt String o：只和相邻的对比，n：分组表达式取值为组号，u：结果集不排序，h：先排序再用@o计算
 	 * @param ctx Context
 	 * @return Table
 	 */
@@ -9724,7 +9726,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			return CursorUtil.groups_m(this, exps, names, calcExps, calcNames, opt, ctx);
 		}
 		
-		// #%3ڰ#ıʽڷʽ#Ż
+		// #%3对于包含#的表达式，先排序再在分组里计算表达式#会算错，不再优化了
 		//if (opt == null && len <= SORT_HASH_LEN && exps != null) {
 			//int keyCount = exps.length;
 			//int []orders = new int[keyCount];
@@ -9744,9 +9746,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ΪУDi,...ΪеA.group(D1).(~.group(D2).((~.id(Di))))
+	 * 为填报表生成序列，返回以Di,...为列的序表，A.group(D1).(~.group(D2).(…(~.id(Di))))
 	 * @param gexps
-	 * @param opt oٶ
+	 * @param opt o：假定已有序
 	 * @param ctx
 	 * @return
 	 */
@@ -9761,7 +9763,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 		
 		if (opt == null || opt.indexOf('o') == -1) {
-			// ά򣬺group@o
+			// 对所有维排序，后续用group@o计算
 			table.sortFields(colIndex);
 		}
 		
@@ -9784,7 +9786,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			curGroup = curGroup.group_o(fexp, "o", ctx);
 			r.setNormalFieldValue(1, curGroup.calc(fexp, ctx));
 			
-			// µıʽм
+			// 生成如下的表达式进行计算
 			//curGroup = curGroup.(~.group@o(#3))		curGroup.(~.(#3))
 			//curGroup = curGroup.(~.(~.group@o(#4)))	curGroup.(~.(~.(#4)))			
 			for (int f = 3; f <= fcount; ++f) {
@@ -9809,9 +9811,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	//-------------------------------------join start-----------------------------------------------
 
 	/**
-	 * 
-	 * @param sequences ˵
-	 * @param names ֶ
+	 * 叉乘序列
+	 * @param sequences 待叉乘的序列数组
+	 * @param names 结果集字段名数组
 	 * @return Table
 	 */
 	public static Table cross(Sequence[] sequences, String[] names) {
@@ -9820,7 +9822,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			throw new RQException("cross" + mm.getMessage("function.invalidParam"));
 		}
 
-		// Դjoinļ¼Ŀ
+		// 计算源序列join后产生的记录数目
 		int newLen = 1;
 		int count = sequences.length;
 		for (int i = 0; i < count; ++i) {
@@ -9830,15 +9832,15 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 		}
 
-		// еļ¼
+		// 产生所有的记录
 		Table table = new Table(names, newLen);
 		BaseRecord[] rs = new BaseRecord[newLen];
 		for (int i = 0; i < newLen; ++i) {
 			rs[i] = table.newLast();
 		}
 
-		// ֱÿһ¼ÿֶθֵ
-		int repeat = 1; // ǰֶظĿ
+		// 分别对每一条记录的每个字段赋值
+		int repeat = 1; // 当前字段重复的数目
 		for (int field = count - 1; field >= 0; --field) {
 			IArray subMems = sequences[field].getMems();
 			int subCount = subMems.size();
@@ -9860,13 +9862,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еУֶεļǰֶεֵ
-	 * @param sequences Դ
-	 * @param fltExps ˱ʽ
-	 * @param fltOpts selectѡ
-	 * @param names ֶ
-	 * @param opt ѡ1
-	 * @param ctx 
+	 * 叉乘所有的序列，后面字段的计算依赖于前面字段的值
+	 * @param sequences 源序列数组
+	 * @param fltExps 过滤表达式数组
+	 * @param fltOpts select函数的选项
+	 * @param names 结果集字段名数组
+	 * @param opt 选项，1：左连接
+	 * @param ctx 计算上下文
 	 * @return Table
 	 */
 	static public Table xjoin(Sequence[] sequences, Expression[] fltExps,
@@ -9919,7 +9921,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		Table tmp = new Table(result.dataStruct(), 1);
 		boolean isLeft = opt != null && opt.indexOf('1') != -1;
 		
-		// һǰ¼ֶεļǰֶεֵ
+		// 创建一条当前记录，后面字段的计算可以引用前面字段的值
 		BaseRecord newCur = tmp.newLast();
 		ComputeStack stack = ctx.getComputeStack();
 		stack.push(newCur);
@@ -9985,10 +9987,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * λðָ
-	 * @param sequences 
-	 * @param names ֶ
-	 * @param opt ѡ1ӣfȫ
+	 * 按位置把指定序列连接起来
+	 * @param sequences 序列数组
+	 * @param names 结果集字段名数组
+	 * @param opt 选项，1：左连接，f：全连接
 	 * @return
 	 */
 	static public Table pjoin(Sequence[] sequences, String[] names, String opt) {
@@ -10020,7 +10022,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			if (opt.indexOf('f') != -1)bUnion = true;
 		}
 
-		// "1f"ͬʱ
+		// "1f"不能同时设置
 		if (bUnion && bFirst) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException(opt + mm.getMessage("engine.optConflict"));
@@ -10049,13 +10051,13 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		} else {
 			int totalLen = srcLen[0];
 			if (bUnion) {
-				for (int c = 1; c < count; ++c) { // 󳤶
+				for (int c = 1; c < count; ++c) { // 最大长度
 					if (totalLen < srcLen[c]) {
 						totalLen = srcLen[c];
 					}
 				}
 			} else {
-				for (int c = 1; c < count; ++c) { // С
+				for (int c = 1; c < count; ++c) { // 最小长度
 					if (totalLen > srcLen[c]) {
 						totalLen = srcLen[c];
 					}
@@ -10077,11 +10079,11 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ָ
-	 * @param sequences 
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param opt ѡ1ӣfȫӣmݰֶù鲢
+	 * 对指定序列做连接
+	 * @param sequences 序列数组
+	 * @param exps 关联字段表达式数组
+	 * @param names 结果集字段名数组
+	 * @param opt 选项，1：左连接，f：全连接，m：数据按关联字段有序采用归并法做连接
 	 * @param ctx
 	 * @return
 	 */
@@ -10100,7 +10102,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		if (opt != null) {
 			if (opt.indexOf('1') != -1) {
 				type = 1;
-				if (opt.indexOf('f') != -1) { // "1f"ͬʱ
+				if (opt.indexOf('f') != -1) { // "1f"不能同时设置
 					MessageManager mm = EngineMessage.get();
 					throw new RQException(opt + mm.getMessage("engine.optConflict"));
 				}
@@ -10117,8 +10119,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * شĳһֵֶɵ
-	 * @param field int ֶ0ʼ
+	 * 返回纯排列某一字段值构成的序列
+	 * @param field int 字段索引，从0开始计数
 	 * @return Sequence
 	 */
 	public Sequence fieldValues(int field) {
@@ -10140,8 +10142,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ĳһֶεֵɵ
-	 * @param fieldName String ֶǶֶָָָ¼ֶ
+	 * 返回某一字段的值构成的序列
+	 * @param fieldName String 字段名，可以是多层指引字段指引所指向记录的字段名
 	 * @return Sequence
 	 */
 	public Sequence fieldValues(String fieldName) {
@@ -10150,8 +10152,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		Sequence result = new Sequence(size);
 		IArray resultMems = result.getMems();
 
-		int col = -1; // ֶһ¼
-		BaseRecord prevRecord = null; // һ¼
+		int col = -1; // 字段在上一条记录的索引
+		BaseRecord prevRecord = null; // 上一条记录
 
 		int i = 1;
 		while (i <= size) {
@@ -10205,17 +10207,17 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		return result;
 	}
 
-	// ѡָĶйɵ
+	// 选出指定的多列构成的排列
 	public Table fieldsValues(String[] fieldNames) {
 		IArray mems = getMems();
 		int size = length();
 
-		// ֶ
+		// 用字段名生成新排列
 		Table retTable = new Table(fieldNames, size);
 
 		int fcount = fieldNames.length;
-		BaseRecord prevRecord = null; // һ¼
-		int[] cols = new int[fcount]; // ֶһ¼
+		BaseRecord prevRecord = null; // 上一条记录
+		int[] cols = new int[fcount]; // 字段在上一条记录的索引
 
 		for (int i = 1; i <= size; ++i) {
 			BaseRecord newRecord = retTable.newLast();
@@ -10255,19 +10257,19 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ޸м¼ֶָεֵֶ
-	 * @param exps ֵʽ
-	 * @param fields ֶ
-	 * @param ctx 
+	 * 修改排列所有记录指定字段的字段值
+	 * @param exps 值表达式数组
+	 * @param fields 字段名数组
+	 * @param ctx 计算上下文
 	 */
 	public void modifyFields(Expression []exps, String []fields, Context ctx) {
 		IArray mems = getMems();
 		int size = mems.size();
 		int fcount = exps.length;
-		BaseRecord prevRecord = null; // һ¼
-		int[] cols = new int[fcount]; // ֶһ¼
+		BaseRecord prevRecord = null; // 上一条记录
+		int[] cols = new int[fcount]; // 字段在上一条记录的索引
 		
-		// ѹջʽõǰ¼ֶ
+		// 把排列压栈，允许表达式引用当前记录的字段
 		ComputeStack stack = ctx.getComputeStack();
 		Current current = new Current(this);
 		stack.push(current);
@@ -10329,9 +10331,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ԷָsepгԱΪַ
-	 * @param sep String ָ
-	 * @param opt String cöӣqԱʱţiӵ
+	 * 以分隔符sep连接序列成员成为字符串
+	 * @param sep String 分隔符
+	 * @param opt String c：用逗号连接，q：串成员接入时加上引号，i：加单引号
 	 * @return String
 	 */
 	public String toString(String sep, String opt) {
@@ -10408,7 +10410,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * תΪַ
+	 * 将序列转为字符串
 	 * @return String
 	 */
 	public String toExportString() {
@@ -10430,10 +10432,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ִsrcԷָsepз
-	 * @param src String Դַ
-	 * @param sep String ָ
-	 * @param opt String pԶʶɳ1ҵһseqֹͣΣbźƥ
+	 * 将字串src以分隔符sep拆成序列返回
+	 * @param src String 源字符串
+	 * @param sep String 分隔符
+	 * @param opt String p：自动识别成常数，1：找到第一个seq停止，即拆成两段，b：不处理引号和括号匹配
 	 * @return Sequence
 	 */
 	public static Sequence toSequence(String src, String sep, String opt) {
@@ -10443,16 +10445,16 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		
 		boolean bFirst = false, bMatch = true, bData = false, bTrim = false, bRegex = false, bEnter = false;
 		if (opt != null) {
-			if (opt.indexOf('p') != -1) bData = true; // Զʶɳ
-			if (opt.indexOf('1') != -1) bFirst = true; // ֳ2
-			if (opt.indexOf('b') != -1) bMatch = false; // źƥ
+			if (opt.indexOf('p') != -1) bData = true; // 自动识别成常数
+			if (opt.indexOf('1') != -1) bFirst = true; // 分成2段
+			if (opt.indexOf('b') != -1) bMatch = false; // 不处理引号和括号匹配
 			if (opt.indexOf('t') != -1) bTrim = true;
 			if (opt.indexOf('c') != -1) sep = ",";
 			if (opt.indexOf('r') != -1) bRegex = true;
 			if (opt.indexOf('n') != -1) bEnter = true;
 		}
 
-		// ʽ
+		// 用正则表达式拆分
 		if (bRegex) {
 			String []strs = src.split(sep);
 			Sequence seq = new Sequence(strs.length);
@@ -10477,7 +10479,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			
 			return seq;
 		} else if (bEnter) {
-			//ɾĩβĿ
+			//删掉末尾的空行
 			int srcLen = src.length();
 			int end = srcLen - 1;
 			for (; end >= 0; --end) {
@@ -10506,19 +10508,19 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					case '\'':
 						match = Sentence.scanQuotation(src, i);
 						i = (match == -1) ? srcLen : match + 1;
-						continue; // ڵ
+						continue; // 跳过引号内的内容
 					case '(':
 						match = Sentence.scanParenthesis(src, i);
 						i = (match == -1) ? srcLen : match + 1;
-						continue; // ڵ
+						continue; // 跳过扩号内的内容
 					case '[':
 						match = Sentence.scanBracket(src, i);
 						i = (match == -1) ? srcLen : match + 1;
-						continue; // ڵ
+						continue; // 跳过扩号内的内容
 					case '{':
 						match = Sentence.scanBrace(src, i);
 						i = (match == -1) ? srcLen : match + 1;
-						continue; // ڵ
+						continue; // 跳过扩号内的内容
 					}
 
 					if (src.charAt(i) == '\r') {
@@ -10659,19 +10661,19 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				case '\'':
 					match = Sentence.scanQuotation(src, i);
 					i = (match == -1) ? srcLen : match + 1;
-					continue; // ڵ
+					continue; // 跳过引号内的内容
 				case '(':
 					match = Sentence.scanParenthesis(src, i);
 					i = (match == -1) ? srcLen : match + 1;
-					continue; // ڵ
+					continue; // 跳过扩号内的内容
 				case '[':
 					match = Sentence.scanBracket(src, i);
 					i = (match == -1) ? srcLen : match + 1;
-					continue; // ڵ
+					continue; // 跳过扩号内的内容
 				case '{':
 					match = Sentence.scanBrace(src, i);
 					i = (match == -1) ? srcLen : match + 1;
-					continue; // ڵ
+					continue; // 跳过扩号内的内容
 				}
 
 				if (src.startsWith(sep, i)) {
@@ -10768,7 +10770,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * еݽṹǴзؿ
+	 * 返回排列的数据结构，如果不是纯排列返回空
 	 * @return DataStruct
 	 */
 	public DataStruct dataStruct() {
@@ -10779,7 +10781,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * һ¼ݽṹһ
+	 * 第一条记录的数据结构产生一个空序表
 	 * @return Table
 	 */
 	public Table create() {
@@ -10794,10 +10796,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * Ҽ¼λ
-	 * @param key Object ֵֵɵ
-	 * @param isSorted boolean Ƿ
-	 * @return int   -insertpos
+	 * 根据主键查找记录位置
+	 * @param key Object 主键值或主键值构成的序列
+	 * @param isSorted boolean 排列是否按主键有序
+	 * @return int 返回索引 或 -insertpos
 	 */
 	public int pfindByKey(Object key, boolean isSorted) {
 		if (!isSorted) {
@@ -10824,7 +10826,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			ds = ((BaseRecord)startVal).dataStruct();
 		}
 		
-		// жǷǴ¼ά
+		// 判断是否是带更新键的维表
 		if (ds != null && ds.getTimeKeyCount() > 0) {
 			int []baseKeyIndex = ds.getBaseKeyIndex();
 			int timeKeyIndex = ds.getTimeKeyIndex();
@@ -10856,7 +10858,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 			
 			if (isSorted) {
-				// öַ
+				// 有序，用二分法查找
 				int index = -1;
 				int low = 1, high = len;
 				while (low <= high) {
@@ -10876,7 +10878,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				if (index == -1) {
 					return -low;
 				} else if (timeKeyValue == null) {
-					// ûָʱֶμʱȡµ
+					// 没有指定时间更新字段键时取最新的
 					for (++index; index <= len; ++index) {
 						BaseRecord r = (BaseRecord)mems.get(index);
 						if (r.compare(baseKeyIndex, baseKeyValues) != 0) {
@@ -10886,7 +10888,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					
 					return index - 1;
 				} else {
-					// ָʱֶμʱȡǰ
+					// 指定时间更新字段键时取前面最近的
 					BaseRecord r = (BaseRecord)mems.get(index);
 					int cmp = Variant.compare(r.getNormalFieldValue(timeKeyIndex), timeKeyValue, true);
 					if (cmp == 0) {
@@ -10921,8 +10923,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 					}
 				}
 			} else {
-				int prevIndex = 0; // һļ¼
-				Object prevTimeValue = null; // һļ¼ʱֵȡʱ
+				int prevIndex = 0; // 上一条满足条件的记录的索引
+				Object prevTimeValue = null; // 上一条满足条件的记录的时间键的值，取最近的时间的
 				
 				for (int i = 1; i <= len; ++i) {
 					Object obj = mems.get(i);
@@ -10952,7 +10954,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			}
 		} else {			
 			if (key instanceof Sequence) {
-				// keyӱļ¼B
+				// key可以是子表的记录，主键数多于B
 				Sequence seq = (Sequence)key;
 				int klen = seq.length();
 				if (klen == 0) {
@@ -11016,10 +11018,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * аֶָöֶַεֵָļ¼
-	 * @param fvals ֵ
-	 * @param findex ֶ
-	 * @return λãҲظĲλ
+	 * 排列按指定字段有序，用二分法查找字段等于指定值的记录
+	 * @param fvals 值数组
+	 * @param findex 字段数组
+	 * @return 位置，找不到返回负的插入位置
 	 */
 	public int pfindByFields(Object []fvals, int []findex) {
 		IArray mems = getMems();
@@ -11049,9 +11051,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ֶεֵkeyļ¼򷵻ؿ
-	 * @param key Object ҵֶεֵ
-	 * @param isSorted boolean Ƿֶ
+	 * 返回名字字段的值等于key的记录，不存在则返回空
+	 * @param key Object 待查找的名字字段的值
+	 * @param isSorted boolean 排列是否按名字字段有序
 	 * @return Object
 	 */
 	public Object findByKey(Object key, boolean isSorted) {
@@ -11065,7 +11067,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				return index > 0 ? getMem(index) : null;
 			} else {
 				if (key instanceof Sequence) {
-					// keyӱļ¼B
+					// key可以是子表的记录，主键数多于B
 					Sequence seq = (Sequence)key;
 					int klen = seq.length();
 					if (klen == 0 || length() == 0) {
@@ -11109,10 +11111,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ֵֶĳ¼
-	 * @param keyIndex int[] 
-	 * @param values Object[] ֵ
-	 * @param isSorted boolean Ƿ
+	 * 根据字段值查找某条记录
+	 * @param keyIndex int[] 主键索引
+	 * @param values Object[] 主键值
+	 * @param isSorted boolean 排列是否按主键有序
 	 * @return BaseRecord
 	 */
 	public BaseRecord select(int[] keyIndex, Object[] values, boolean isSorted) {
@@ -11153,7 +11155,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ؼ¼йɵ
+	 * 返回记录的主键或主键序列构成的序列
 	 * @return Object
 	 */
 	public Sequence getPKeyValues() {
@@ -11176,12 +11178,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 	/**
 	 * 
-	 * @param function 
-	 * @param fkNames	ֶ
-	 * @param timeNames ʱֶ
-	 * @param codes 
-	 * @param exps 
-	 * @param timeExps ʱ
+	 * @param function 函数
+	 * @param fkNames	外键字段
+	 * @param timeNames 时间字段
+	 * @param codes 代码表
+	 * @param exps 代码表主键
+	 * @param timeExps 时间主键
 	 * @param opt
 	 * @param ctx
 	 * @return
@@ -11221,10 +11223,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	
 	
 	/**
-	 * Ա¼switch任
-	 * @param fkName ֶ
-	 * @param code Sequence Ψһ
-	 * @param exp Expression 
+	 * 对表记录作switch变换
+	 * @param fkName 外键字段
+	 * @param code Sequence 代码表，主键唯一
+	 * @param exp Expression 代码表主键
 	 * @param opt String
 	 * @param ctx Context
 	 */
@@ -11239,8 +11241,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			return;
 		}
 
-		int col = -1; // ֶһ¼
-		BaseRecord prevRecord = null; // һ¼
+		int col = -1; // 字段在上一条记录的索引
+		BaseRecord prevRecord = null; // 上一条记录
 
 		for (int i = 1, len = mems.size(); i <= len; ++i) {
 			Object obj = mems.get(i);
@@ -11289,37 +11291,37 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ȡ򷵻ؿ
-	 * @return 
+	 * 取序表的索引表，如果不存在则返回空
+	 * @return 序表的索引表
 	 */
 	public IndexTable getIndexTable() {
 		return null;
 	}
 
 	/**
-	 * ȡ򷵻ؿ
-	 * @param exp ֶαʽһΪֶ
-	 * @param ctx 
-	 * @return 
+	 * 取序表的索引表，如果不存在则返回空
+	 * @param exp 索引字段表达式，一般为主键字段
+	 * @param ctx 计算上下文
+	 * @return 序表的索引表
 	 */
 	public IndexTable getIndexTable(Expression exp, Context ctx) {
 		return null;
 	}
 	
 	/**
-	 * ȡ򷵻ؿ
-	 * @param exps ֶαʽ飬һΪֶ
-	 * @param ctx 
-	 * @return 
+	 * 取序表的索引表，如果不存在则返回空
+	 * @param exps 索引字段表达式数组，一般为多字段主键
+	 * @param ctx 计算上下文
+	 * @return 序表的索引表
 	 */
 	public IndexTable getIndexTable(Expression []exps, Context ctx) {
 		return null;
 	}
 
 	/**
-	 * еĳԱλӣغ
-	 * @param sequence 
-	 * @return 
+	 * 两个序列的成员按位置相加，返回和序列
+	 * @param sequence 序列
+	 * @return 和序列
 	 */
 	public Sequence memberAdd(Sequence sequence) {
 		if (length() != sequence.length()) {
@@ -11332,9 +11334,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * еĳԱλز
-	 * @param sequence 
-	 * @return 
+	 * 两个序列的成员按位置相减，返回差序列
+	 * @param sequence 序列
+	 * @return 差序列
 	 */
 	public Sequence memberSubtract(Sequence sequence) {
 		if (length() != sequence.length()) {
@@ -11347,9 +11349,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * еĳԱλˣػ
-	 * @param sequence 
-	 * @return 
+	 * 两个序列的成员按位置相乘，返回积序列
+	 * @param sequence 序列
+	 * @return 积序列
 	 */
 	public Sequence memberMultiply(Sequence sequence) {
 		if (length() != sequence.length()) {
@@ -11362,9 +11364,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * еĳԱλ
-	 * @param sequence 
-	 * @return 
+	 * 两个序列的成员按位置相除，返回商序列
+	 * @param sequence 序列
+	 * @return 商序列
 	 */
 	public Sequence memberDivide(Sequence sequence) {
 		if (length() != sequence.length()) {
@@ -11377,9 +11379,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * еĳԱλ
-	 * @param sequence 
-	 * @return 
+	 * 两个序列的成员按位置整除，返回商序列
+	 * @param sequence 序列
+	 * @return 商序列
 	 */
 	public Sequence memberIntDivide(Sequence sequence) {
 		if (length() != sequence.length()) {
@@ -11392,9 +11394,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * еĳԱλȡ࣬
-	 * @param sequence 
-	 * @return 
+	 * 两个序列的成员按位置取余，返回余数序列
+	 * @param sequence 序列
+	 * @return 余数序列
 	 */
 	public Sequence memberMod(Sequence sequence) {
 		if (length() != sequence.length()) {
@@ -11407,8 +11409,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ڼA*kA||Akk
-	 * @param k 
+	 * 用于计算A*k，A|…|A，共k个，k是正整数
+	 * @param k 数量
 	 * @return
 	 */
 	public Sequence multiply(int k) {
@@ -11424,8 +11426,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * жָλõԪǷTrue
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是True
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isTrue(int index) {
@@ -11434,9 +11436,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 
 	
 	/**
-	 * Ƿֶָ
-	 * @param fieldName ֶ
-	 * @return truefalse
+	 * 返回排列是否包含指定字段
+	 * @param fieldName 字段名
+	 * @return true：包含，false：不包含
 	 */
 	public boolean containField(String fieldName) {
 		Object obj = ifn();
@@ -11449,8 +11451,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡֶָεֵ
-	 * @param fieldName ֶ
+	 * 取指定字段的值数组
+	 * @param fieldName 字段名
 	 * @return IArray
 	 */
 	public IArray getFieldValueArray(String fieldName) {
@@ -11460,7 +11462,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			return new ObjectArray(0);
 		}
 		
-		int col = -1; // ֶһ¼
+		int col = -1; // 字段在上一条记录的索引
 		Object obj;
 		BaseRecord r = null;
 		DataStruct prevDs = null;
@@ -11480,7 +11482,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				prevDs = r.dataStruct();
 				result = r.createFieldValueArray(col, size);
 				
-				// iѾӹ1ˣԴ2ʼ
+				// i已经加过1了，所以从2开始
 				for (int n = 2; n < i; ++n) {
 					result.pushNull();
 				}
@@ -11494,7 +11496,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 		
 		if (result == null) {
-			// ԱȫΪ
+			// 成员全部为空
 			Object []datas = new Object[size + 1];
 			result = new ObjectArray(datas, size);
 			return result;
@@ -11526,8 +11528,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡֶָεֵ
-	 * @param field ֶ0ʼ
+	 * 取指定字段的值数组
+	 * @param field 字段索引，从0开始计数
 	 * @return IArray
 	 */
 	public IArray getFieldValueArray(int field) {
@@ -11546,7 +11548,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			if (r != null) {
 				result = r.createFieldValueArray(field, size);
 				
-				// iѾӹ1ˣԴ2ʼ
+				// i已经加过1了，所以从2开始
 				for (int n = 2; n < i; ++n) {
 					result.pushNull();
 				}
@@ -11557,7 +11559,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		}
 		
 		if (result == null) {
-			// ԱȫΪ
+			// 成员全部为空
 			Object []datas = new Object[size + 1];
 			result = new ObjectArray(datas, size);
 			return result;
@@ -11576,9 +11578,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * ȡָеֵ
-	 * @param row кţ1ʼ
-	 * @param field кţ0ʼ
+	 * 取指定行列的值
+	 * @param row 行号，从1开始计数
+	 * @param field 列号，从0开始计数
 	 * @return
 	 */
 	public Object getFieldValue(int row, int field) {
@@ -11588,7 +11590,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 		} else if (obj == null) {
 			return null;
 		} else if (obj instanceof Sequence) {
-			// ǰԪȡһԪ
+			// 如果当前元素是序列则取其第一个元素
 			if (((Sequence)obj).length() == 0) {
 				return null;
 			}
@@ -11606,8 +11608,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡԱɵ
-	 * @param indexArray Ա
+	 * 取成员组成的数组
+	 * @param indexArray 成员索引数组
 	 * @return IArray
 	 */
 	public IArray getMemberArray(int []indexArray) {
@@ -11615,8 +11617,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ȡԱɵ
-	 * @param indexArray Ա
+	 * 取成员组成的数组
+	 * @param indexArray 成员索引数组
 	 * @return IArray
 	 */
 	public IArray getMemberArray(NumberArray indexArray) {
@@ -11624,7 +11626,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * һأв洴
+	 * 创建一个索引表返回，序列不保存创建的索引表
 	 * @return IndexTable
 	 */
 	public IndexTable newIndexTable() {
@@ -11632,8 +11634,8 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * һأв洴
-	 * @param capacity 
+	 * 创建一个索引表返回，序列不保存创建的索引表
+	 * @param capacity 索引表容量
 	 * @return IndexTable
 	 */
 	public IndexTable newIndexTable(int capacity) {
@@ -11653,6 +11655,15 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 				int []pkIndex = r.dataStruct().getPKIndex();
 				return new TimeIndexTable(this, pkIndex, capacity);
 			}
+			
+			// 单字段整数主键用整数索引
+			int []pkIndex = r.dataStruct().getPKIndex();
+			if (pkIndex != null && pkIndex.length == 1 && !r.dataStruct().isSeqKey() && dataStruct() != null) {
+				IndexTable intIndex = IntHashIndexTable.create(this, pkIndex[0]);
+				if (intIndex != null) {
+					return intIndex;
+				}
+			}
 		}
 		
 		HashIndexTable hashIndexTable = new HashIndexTable(capacity);
@@ -11661,9 +11672,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 
 	/**
-	 * һأв洴
-	 * @param exp ʽ
-	 * @param ctx 
+	 * 创建一个索引表返回，序列不保存创建的索引表
+	 * @param exp 主键表达式
+	 * @param ctx 计算上下文
 	 * @return IndexTable
 	 */
 	public IndexTable newIndexTable(Expression exp, Context ctx) {
@@ -11671,16 +11682,28 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * һأв洴
-	 * @param exp ʽ
-	 * @param ctx 
-	 * @param capacity 
+	 * 创建一个索引表返回，序列不保存创建的索引表
+	 * @param exp 主键表达式
+	 * @param ctx 计算上下文
+	 * @param capacity 索引表容量
 	 * @return IndexTable
 	 */
 	public IndexTable newIndexTable(Expression exp, Context ctx, int capacity) {
 		if (exp == null) {
 			return newIndexTable(capacity);
 		} else {
+			// 表达式是字段并且字段值是整数时用整数索引
+			DataStruct ds = dataStruct();
+			if (ds != null) {
+				int field = ds.getFieldIndex(exp.getIdentifierName());
+				if (field != -1) {
+					IndexTable it = IntHashIndexTable.create(this, field);
+					if (it != null) {
+						return it;
+					}
+				}
+			}
+			
 			HashIndexTable it = new HashIndexTable(capacity);
 			it.create(this, exp, ctx);
 			return it;
@@ -11688,10 +11711,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ֶָδһأв洴
-	 * @param fields ֶ
-	 * @param capacity 
-	 * @param opt mдn
+	 * 用指定字段创建一个索引表返回，序列不保存创建的索引表
+	 * @param fields 字段序号
+	 * @param capacity 索引表容量
+	 * @param opt m：并行创建，n：基本键是序号
 	 * @return IndexTable
 	 */
 	public IndexTable newIndexTable(int []fields, int capacity, String opt) {
@@ -11700,6 +11723,12 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 			if ((ds != null && ds.isSeqKey()) || (opt != null && opt.indexOf('n') != -1)) {
 				return new SeqIndexTable(this, fields[0]);
 			} else {
+				// 字段值是整数时用整数索引
+				IndexTable intIndex = IntHashIndexTable.create(this, fields[0]);
+				if (intIndex != null) {
+					return intIndex;
+				}
+				
 				HashIndexTable it = new HashIndexTable(capacity, opt);
 				it.create(this, fields[0]);
 				return it;
@@ -11719,9 +11748,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * öֶδһأв洴
-	 * @param exps ֶαʽ
-	 * @param ctx 
+	 * 用多字段创建一个索引表返回，序列不保存创建的索引表
+	 * @param exps 字段表达式数组
+	 * @param ctx 计算上下文
 	 * @return IndexTable
 	 */
 	public IndexTable newIndexTable(Expression []exps, Context ctx) {
@@ -11729,10 +11758,10 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * öֶδһأв洴
-	 * @param exps ֶαʽ
-	 * @param ctx 
-	 * @param capacity 
+	 * 用多字段创建一个索引表返回，序列不保存创建的索引表
+	 * @param exps 字段表达式数组
+	 * @param ctx 计算上下文
+	 * @param capacity 容量
 	 * @return IndexTable
 	 */
 	public IndexTable newIndexTable(Expression []exps, Context ctx, int capacity) {
@@ -11763,9 +11792,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * 鲢
-	 * @param exps ֶαʽ
-	 * @param ctx 
+	 * 创建有序归并索引
+	 * @param exps 字段表达式数组
+	 * @param ctx 计算上下文
 	 * @return IndexTable
 	 */
 	public IndexTable newMergeIndexTable(Expression []exps, Context ctx) {
@@ -11773,7 +11802,7 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ڴα
+	 * 构建内存游标
 	 * @return
 	 */
 	public ICursor cursor() {
@@ -11781,9 +11810,9 @@ public class Sequence implements Externalizable, IRecord, Comparable<Sequence> {
 	}
 	
 	/**
-	 * ָ乹ڴα
-	 * @param start ʼλã
-	 * @param end λã
+	 * 按指定区间构建内存游标
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，不包含
 	 * @return
 	 */
 	public ICursor cursor(int start, int end) {
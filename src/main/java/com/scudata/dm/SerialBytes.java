@@ -13,10 +13,10 @@ import com.scudata.util.HashUtil;
 import com.scudata.util.Variant;
 
 /**
- * źţ8ֽڹɵڱʾֵɱȽϣ
- * һֽڱvalue1ֽ
+ * 排号，由最长8个字节构成的整数，用于表示键值，可比较，不能运算
+ * 第一个字节保存在value1的最高字节上
  * value1					value2
- * b1 b2 b3 b4 b5 b6 b7 b8	b9 b10 b11 b12ڿڿڿ
+ * b1 b2 b3 b4 b5 b6 b7 b8	b9 b10 b11 b12口口口口
  *
  * @author WangXiaoJun
  */
@@ -37,7 +37,7 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	private long value2;
 	//private int len;
 	
-	// л
+	// 用于序列化
 	public SerialBytes() {
 	}
 	
@@ -59,9 +59,9 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	}
 	
 	/**
-	 * źŶ
-	 * @param num 
-	 * @param len ֽΧ[1,16]
+	 * 构建排号对象
+	 * @param num 数
+	 * @param len 字节数，范围是[1,16]
 	 */
 	public SerialBytes(Number num, int len) {
 		if (len > 16) {
@@ -80,7 +80,7 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 				throw new RQException(mm.getMessage("serialbytes.biLenMismatch"));
 			}
 			
-			// ʵֽڸֽ0
+			// 如果实际字节数少于给定的字节数则用0补足
 			int index = len - blen;
 			for (byte b : bytes) {
 				++index;
@@ -94,16 +94,16 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	}
 	
 	/**
-	 * źŶ
-	 * @param vals 
-	 * @param lens ÿֽ飬ֽܳ16
+	 * 构建排号对象
+	 * @param vals 数数组
+	 * @param lens 每个数的字节数数组，总字节数不能超过16
 	 */
 	public SerialBytes(Number []vals, int []lens) {
 		int len = 0;
 		for (int i = 0; i < vals.length; ++i) {
 			int curLen = lens[i];
 			if (curLen <= 8) {
-				// С8Ѹλ0ɵתǸֵ
+				// 如果长度小于8则把高位置0，由低类型转过来的数可能是负值
 				long curVal = vals[i].longValue() & (LONGSIGN >>> 8 - curLen);
 				
 				if (len < 8) {
@@ -132,7 +132,7 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 					throw new RQException(mm.getMessage("serialbytes.biLenMismatch"));
 				}
 				
-				// ʵֽڸֽ0
+				// 如果实际字节数少于给定的字节数则用0补足
 				len += curLen - blen;
 				
 				for (byte b : bytes) {
@@ -153,7 +153,7 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	}
 	
 	/**
-	 * źŵĳ
+	 * 返回排号的长度
 	 * @return int
 	 */
 	public int length() {
@@ -161,7 +161,7 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	}
 	
 	/**
-	 * źŵĹϣֵ
+	 * 返回排号的哈希值
 	 * @return int
 	 */
     public int hashCode() {
@@ -169,7 +169,7 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
     }
 	
     /**
-     * תַʾ
+     * 转成字符串，用于显示
 	 * @return String
      */
 	public String toString() {
@@ -190,8 +190,8 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	}
 	
 	/**
-	 * źתֽ飬ڴ洢
-	 * @return ֽ
+	 * 把排号转成字节数组，用于存储
+	 * @return 字节数组
 	 */
 	public byte[] toByteArray() {
 		byte []bytes = new byte[16];
@@ -208,8 +208,8 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	}
 	
 	/**
-	 * ȡźָֽڵֵ
-	 * @param q ֽںţ1ʼ
+	 * 取排号指定字节的值
+	 * @param q 字节号，从1开始计数
 	 * @return long
 	 */
 	public long getByte(int q) {
@@ -224,9 +224,9 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	}
 	
 	/**
-	 * ȡźֵָֽ
-	 * @param start ʼֽںţ1ʼ
-	 * @param end ֽںţ1ʼ
+	 * 取排号指定字节区间的值
+	 * @param start 起始字节号，从1开始计数（包含）
+	 * @param end 结束字节号，从1开始计数（包含）
 	 * @return long
 	 */
 	public long getBytes(int start, int end) {
@@ -248,12 +248,12 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	}
 	
 	/**
-	 * ȽźŵĴС
-	 * @param value1 ź1ֵ1
-	 * @param value2 ź1ֵ2
-	 * @param otherValue1 һźŵֵ1
-	 * @param otherValue2 һźŵֵ2
-	 * @return 1ź10һģ-1ź2
+	 * 比较两个排号的大小
+	 * @param value1 排号1的值1
+	 * @param value2 排号1的值2
+	 * @param otherValue1 另一个排号的值1
+	 * @param otherValue2 另一个排号的值2
+	 * @return 1：排号1大，0：一样的，-1：排号2大
 	 */
 	public static int compare(long value1, long value2, long otherValue1, long otherValue2) {
 		if (value1 == otherValue1) {
@@ -286,7 +286,7 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	}
 	
 	/**
-	 * ȽźŵĴС
+	 * 比较两个排号的大小，用于排序
 	 * @param o
 	 * @return int
 	 */
@@ -311,7 +311,7 @@ public class SerialBytes implements Externalizable, Comparable<SerialBytes> {
 	}
 
 	/**
-	 * жźǷ
+	 * 判断两个排号是否相等
 	 * @param other
 	 * @return
 	 */
@@ -13,18 +13,18 @@ import com.scudata.dw.MemoryTable;
 import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
-//ڶ߳ͬļαȡ
+//用于多个线程同步从组表、集文件、游标取数
 public class SyncReader {
 
 	private Object srcObj;
-	private ArrayList<Integer> countList = new ArrayList<Integer>();//ÿε
-	private Sequence values = new Sequence();//ÿεֵ
+	private ArrayList<Integer> countList = new ArrayList<Integer>();//每段的条数
+	private Sequence values = new Sequence();//每段的首条值
 	
 	private int fetched[];
 	private int parallCount = 1;
-	private int SYNC_THREAD_NUM = 8;//ͬʱȡάʱ̱֤ôã
+	private int SYNC_THREAD_NUM = 8;//同时取出的维表块数（时刻保证有这么多个块可用）
 	private Sequence datas[];
-	private String[] fields;//Ҫάֶ
+	private String[] fields;//需要的维表字段
 	private Thread []threads;
 	
 	public ArrayList<Integer> getCountList() {
@@ -70,7 +70,7 @@ public class SyncReader {
 	}
 	
 	public SyncReader(FileObject file, Expression []exps, int n) {
-		//תΪString[]
+		//转换为String[]
 		int len = exps.length;
 		String []keys = new String[len];
 		for (int j = 0; j < len; j++) {
@@ -88,7 +88,7 @@ public class SyncReader {
 	}
 	
 	public SyncReader(Cursor cursor, Expression []exps, int n) {
-		//תΪString[]
+		//转换为String[]
 		int len = exps.length;
 		String []keys = new String[len];
 		for (int j = 0; j < len; j++) {
@@ -120,7 +120,7 @@ public class SyncReader {
 			datas[index] = new MemoryTable(cursor);
 		} else {
 			ICursor srcCursor = new BFileCursor((FileObject) srcObj, null, null, null);
-			//TODO ÷ֶpos
+			//TODO 设置分段pos
 			datas[index] = srcCursor.fetch(countList.get(index));
 		}
 	}
@@ -137,7 +137,7 @@ public class SyncReader {
 			datas[index] = new MemoryTable(cursor);
 		} else {
 			ICursor srcCursor = new BFileCursor((FileObject) srcObj, null, null, null);
-			//TODO ÷ֶpos
+			//TODO 设置分段pos
 			datas[index] = new MemoryTable(srcCursor, countList.get(index));
 		}
 	}
@@ -151,8 +151,8 @@ public class SyncReader {
 			} else {
 
 				try {
-					//run˵joinٶȱȡҪ
-					//һ
+					//run到这里就说明join的速度比这里取数要快
+					//一次启动多个
 					int num = SYNC_THREAD_NUM;
 					Thread[] threads = this.threads;
 					for (int i = 0; i < num; i++) {
@@ -160,7 +160,7 @@ public class SyncReader {
 							break;
 						}
 						if (threads[index + i].getState() == Thread.State.NEW) {
-							threads[index + i].start(); //
+							threads[index + i].start(); //启动
 						}
 					}
 					for (int i = 0; i < num; i++) {
@@ -177,12 +177,12 @@ public class SyncReader {
 		}
 		
 		if (fetched[index] == parallCount) {
-			//е߳(joinx߳)ȡ
+			//如果所有的线程(joinx线程)都取过了
 			Sequence data = datas[index];
 			datas[index] = null;
 			
 			if (!(srcObj instanceof FileObject)) {
-				//һδ߳
+				//启动下一个未启动的线程
 				int next = index + SYNC_THREAD_NUM;
 				if (next < threads.length) {
 					Thread t = threads[next];
@@ -204,7 +204,7 @@ public class SyncReader {
 		
 		if (parallCount == 1) return;
 		for (int i = 0; i < SYNC_THREAD_NUM; ++i) {
-			threads[i].start(); // ̷ֶ߳ȡ
+			threads[i].start(); // 启动线程分段取数
 		}
 	}
 	
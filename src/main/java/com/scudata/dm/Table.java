@@ -17,58 +17,58 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ࣬ӵݽṹԱΪṹͬļ¼
+ * 序表对象类，拥有数据结构，成员为结构相同的记录
  * @author WangXiaoJun
  *
  */
 public class Table extends Sequence {
 	private static final long serialVersionUID = 0x02010004;
 	
-	protected DataStruct ds; // ݽṹ
-	protected transient IndexTable indexTable; // Ӳfind
+	protected DataStruct ds; // 数据结构
+	protected transient IndexTable indexTable; // 按主键建立的索引表，用于连接操作或find查找
 
 	/**
-	 * лʱʹ
+	 * 序列化时使用
 	 */
 	public Table() {}
 
 	/**
-	 * һ
-	 * @param createArray ǷIArray
+	 * 创建一个空序列
+	 * @param createArray 是否产生IArray
 	 */
 	protected Table(boolean createArray) {
 		super(createArray);
 	}
 
 	/**
-	 * һ
-	 * @param fields ֶ
+	 * 创建一空序表
+	 * @param fields 字段名数组
 	 */
 	public Table(String []fields) {
 		this(new DataStruct(fields));
 	}
 
 	/**
-	 * ָݽṹһ
-	 * @param ds ݽṹ
+	 * 用指定数据结构创建一空序表
+	 * @param ds 数据结构
 	 */
 	public Table(DataStruct ds) {
 		this.ds = ds;
 	}
 
 	/**
-	 * һ
-	 * @param fields ֶ
-	 * @param initialCapacity ʼ
+	 * 创建一空序表
+	 * @param fields 字段名数组
+	 * @param initialCapacity 初始容量
 	 */
 	public Table(String []fields, int initialCapacity) {
 		this(new DataStruct(fields), initialCapacity);
 	}
 
 	/**
-	 * ָݽṹһ
-	 * @param ds ݽṹ
-	 * @param initialCapacity ʼ
+	 * 用指定数据结构创建一空序表
+	 * @param ds 数据结构
+	 * @param initialCapacity 初始容量
 	 */
 	public Table(DataStruct ds, int initialCapacity) {
 		super(initialCapacity);
@@ -76,7 +76,7 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ȸһ
+	 * 深度复制一个序表
 	 * @param src
 	 */
 	public Table(Table src) {
@@ -91,14 +91,14 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * еĹϣֵ
+	 * 返回序列的哈希值
 	 */
 	public int hashCode() {
 		return mems.hashCode();
 	}
 	
 	/**
-	 * Ƿм¼
+	 * 返回序列是否含有记录
 	 * @return boolean
 	 */
 	public boolean hasRecord() {
@@ -106,8 +106,8 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 *  ͬṹļ¼β
-	 * @param val ¼
+	 *  添加同结构的记录到序表尾端
+	 * @param val 记录
 	 */
 	public void add(Object val) {
 		if (val instanceof BaseRecord && ((BaseRecord)val).dataStruct() == ds) {
@@ -119,9 +119,9 @@ public class Table extends Sequence {
 
 	
 	/**
-	 * ָλòһͬṹ¼
-	 * @param pos int    λã1ʼ0ʾ׷ӣС0Ӻ
-	 * @param val Object Ҫӵļ¼
+	 * 在指定位置插入一条同结构记录
+	 * @param pos int    位置，从1开始计数，0表示追加，小于0则从后数
+	 * @param val Object 需要添加的记录
 	 */
 	public void insert(int pos, Object val) {
 		if (val instanceof BaseRecord && ((BaseRecord)val).dataStruct() == ds) {
@@ -132,9 +132,9 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ָλõļ¼
-	 * @param pos int λ
-	 * @param obj Object ͬṹ¼¼
+	 * 设置序表指定位置的记录
+	 * @param pos int 位置
+	 * @param obj Object 同结构的新记录
 	 */
 	public void set(int pos, Object val) {
 		if (val instanceof BaseRecord && ((BaseRecord)val).dataStruct() == ds) {
@@ -145,15 +145,15 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ˷̳У֧
+	 * 此方法继承自序列，序表不支持
 	 */
 	public Object modify(int pos, Object val, String opt) {
 		throw new RQException("'modify' function is unimplemented in Table!");
 	}
 
 	/**
-	 * ָλõļ¼ԽԶ
-	 * @param pos int ¼
+	 * 返回指定位置的记录，越界自动补
+	 * @param pos int 记录索引
 	 * @return BaseRecord
 	 */
 	public BaseRecord getRecord(int pos) {
@@ -170,7 +170,7 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * һ¼¼׷ӵβظü¼
+	 * 创建一条新记录追加到序表尾部，并返回该记录
 	 * @return BaseRecord
 	 */
 	public BaseRecord newLast() {
@@ -180,8 +180,8 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * һֵָ¼¼׷ӵβ
-	 * @param initVals Object[] ֵ
+	 * 创建一条指定初值的新记录追加到序表尾部
+	 * @param initVals Object[] 初值
 	 * @return BaseRecord
 	 */
 	public BaseRecord newLast(Object []initVals) {
@@ -191,7 +191,7 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ݽṹ
+	 * 返回序表的数据结构
 	 * @return DataStruct
 	 */
 	public DataStruct dataStruct() {
@@ -199,7 +199,7 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ݽṹͬĿ
+	 * 产生与此序表数据结构相同的空序表
 	 * @return Table
 	 */
 	public Table create() {
@@ -208,8 +208,8 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * лֽ
-	 * @return ֽ
+	 * 把序表序列化成字节数组
+	 * @return 字节数组
 	 */
 	public byte[] serialize() throws IOException{
 		ByteArrayOutputRecord out = new ByteArrayOutputRecord();
@@ -227,15 +227,15 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ֽ
-	 * @param buf ֽ
+	 * 由字节数组填充序表
+	 * @param buf 字节数组
 	 */
 	public void fillRecord(byte[] buf) throws IOException, ClassNotFoundException {
 		ByteArrayInputRecord in = new ByteArrayInputRecord(buf);
 		ds = (DataStruct)in.readRecord(new DataStruct());
 
 		int len = in.readInt();
-		insert(0, len, null); // ռ¼
+		insert(0, len, null); // 插入空记录
 		IArray mems = getMems();
 		for (int i = 1; i <= len; ++i) {
 			Record r = (Record)mems.get(i);
@@ -245,35 +245,35 @@ public class Table extends Sequence {
 
 	public void writeExternal(ObjectOutput out) throws IOException {
 		super.writeExternal(out);
-		out.writeByte(1); // 汾
+		out.writeByte(1); // 版本号
 		out.writeObject(ds);
 	}
 
 	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 		super.readExternal(in);
-		in.readByte(); // 汾
+		in.readByte(); // 版本号
 		ds = (DataStruct)in.readObject();
 	}
 
 	/**
-	 * صǰǷ
-	 * @return boolean trueУfalse
+	 * 返回当前序列是否是排列
+	 * @return boolean true：是排列，false：非排列
 	 */
 	public boolean isPmt() {
 		return true;
 	}
 
 	/**
-	 * صǰǷǴ
-	 * @return boolean trueǴУṹͬ
+	 * 返回当前序列是否是纯排列
+	 * @return boolean true：是纯排列（结构相同）
 	 */
 	public boolean isPurePmt() {
 		return true;
 	}
 	
 	/**
-	 * жָλõԪǷTrue
-	 * @param index 1ʼ
+	 * 判断指定位置的元素是否是True
+	 * @param index 索引，从1开始计数
 	 * @return
 	 */
 	public boolean isTrue(int index) {
@@ -281,8 +281,8 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ѡָĶй
-	 * @param fieldNames 
+	 * 选出指定的多列构成新序表
+	 * @param fieldNames 列名数组
 	 */
 	public Table fieldsValues(String[] fieldNames) {
 		IArray mems = getMems();
@@ -315,8 +315,8 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ֶ˳򣬲ûбֶɾ
-	 * @param fields ½ṹֶ
+	 * 调整字段顺序，参数里没有保护的字段删除
+	 * @param fields 新结构的字段
 	 */
 	public void alter(String []fields) {
 		DataStruct oldDs = this.ds;
@@ -325,7 +325,7 @@ public class Table extends Sequence {
 		for (int i = 0; i < newCount; ++i) {
 			index[i] = oldDs.getFieldIndex(fields[i]);
 			if (index[i] != -1) {
-				// ֶο#iʾ
+				// 字段可能以#i表示
 				fields[i] = oldDs.getFieldName(index[i]);
 			}
 		}
@@ -351,9 +351,9 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ݽṹ
-	 * @param fields String[] ½ṹֶ
-	 * @param oldFields String[] ֶζӦԴֶΣͬʡ
+	 * 调整序表的数据结构和数据
+	 * @param fields String[] 新结构的字段
+	 * @param oldFields String[] 新字段对应的源字段，相同可省略
 	 */
 	public void alter(String []fields, String []oldFields) {
 		if (fields == null) {
@@ -365,7 +365,7 @@ public class Table extends Sequence {
 		int newCount = fields.length;
 		int []index = new int[newCount];
 
-		// ǷԴṹͬ
+		// 是否跟源结构相同
 		boolean isSame = newCount == oldDs.getFieldCount();
 		if (oldFields == null) {
 			for (int i = 0; i < newCount; ++i) {
@@ -386,7 +386,7 @@ public class Table extends Sequence {
 			}
 		}
 
-		if (isSame) return; // Դṹͬ
+		if (isSame) return; // 跟源结构相同
 		DataStruct newDs = oldDs.create(fields);
 
 		IArray mems = getMems();
@@ -408,25 +408,25 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ޸ݽṹֶ
-	 * @param srcFields Դֶ
-	 * @param newFields ֶ
+	 * 修改数据结构的字段名
+	 * @param srcFields 源字段名
+	 * @param newFields 新字段名
 	 */
 	public void rename(String []srcFields, String []newFields) {
 		ds.rename(srcFields, newFields);
 	}
 
 	/**
-	 * صǰָǷ
-	 * @param 
-	 * @return boolean trueָǵǰ
+	 * 返回当前序表与指定序列是否相等
+	 * @param 序列
+	 * @return boolean true：参数指定的序列是当前序表
 	 */
 	public boolean isEquals(Sequence table) {
 		return table == this;
 	}
 	
 	/**
-	 * ȡзǿԪظ
+	 * 取序列非空元素个数
 	 * @return int
 	 */
 	public int count() {
@@ -434,8 +434,8 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * еķظԪnull
-	 * @param opt o
+	 * 返回序列的非重复元素数，不包含null
+	 * @param opt o：序列有序
 	 * @return
 	 */
 	public int icount(String opt) {
@@ -443,8 +443,8 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ȥظԪغ
-	 * @param opt String oֻڵĶԱȣuh@o
+	 * 返回去掉重复的元素后的序列
+	 * @param opt String o：只和相邻的对比，u：结果集不排序，h：先排序再用@o计算
 	 * @return Sequence
 	 */
 	public Sequence id(String opt) {
@@ -452,25 +452,25 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ˷̳Уֱ֧ȴС
+	 * 此方法继承自序列，序表不支持比大小
 	 */
 	public int cmp(Sequence table) {
 		return table == this ? 0 : -1;
 	}
 
 	/**
-	 * ֱ֧ȴС
+	 * 序表不支持比大小
 	 */
 	public int compareTo(Sequence table) {
 		return table == this ? 0 : -1;
 	}
 
 	/**
-	 * ָλòһռ¼
-	 * @param pos int λã1ʼ0ʾ׷ӣԽԶС0Ӻ
+	 * 在指定位置插入一条空记录
+	 * @param pos int 位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
 	 */
 	public BaseRecord insert(int pos) {
-		if (pos == 0) { // ׷
+		if (pos == 0) { // 追加
 			return newLast();
 		}
 		
@@ -486,7 +486,7 @@ public class Table extends Sequence {
 			Record r = new Record(ds);
 			mems.insert(pos, r);
 			return r;
-		} else if (pos > oldCount) { // ԽԶ
+		} else if (pos > oldCount) { // 越界自动补
 			int count = pos - oldCount;
 			Record []rs = new Record[count];
 			for (int i = 0; i < count; ++i) {
@@ -503,13 +503,13 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ָλòһ¼
-	 * @param pos λã1ʼ0ʾ׷ӣԽԶС0Ӻ
-	 * @param values ¼ֵֶɵ
-	 * @return ļ¼
+	 * 在指定位置插入一条记录
+	 * @param pos 位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
+	 * @param values 记录字段值组成的数组
+	 * @return 插入的记录
 	 */
 	public BaseRecord insert(int pos, Object []values) {
-		if (pos == 0) { // ׷
+		if (pos == 0) { // 追加
 			return newLast(values);
 		} else if (pos < 0) {
 			pos += mems.size() + 1;
@@ -525,10 +525,10 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ָλòռ¼
-	 * @param pos int λã1ʼ0ʾ׷ӣԽԶС0Ӻ
-	 * @param count int 
-	 * @param opt String n²ļ¼ɵ
+	 * 在指定位置插入多条空记录
+	 * @param pos int 位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
+	 * @param count int 数量
+	 * @param opt String n：返回新插入的记录构成的序列
 	 * @return Sequence
 	 */
 	public Sequence insert(int pos, int count, String opt) {
@@ -553,14 +553,14 @@ public class Table extends Sequence {
 		if (count < 1) return result;
 
 		int last = oldCount + 1;
-		if (pos == 0) { // ׷
+		if (pos == 0) { // 追加
 			pos = last;
-		} else if (pos > last) { // Խ
+		} else if (pos > last) { // 越界
 			count += (pos - last);
 			pos = last;
-		} // ׷
+		} // 插入或追加
 
-		// ¼¼
+		// 产生新记录
 		DataStruct ds = this.ds;
 		Record []rs = new Record[count];
 		for (int i = 0; i < count; ++i) {
@@ -581,10 +581,10 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ָλòһ¼
-	 * @param pos int λã1ʼ0ʾ׷ӣԽԶС0Ӻ
-	 * @param values Object[] ֶζӦֵ
-	 * @param fields String[] ֶ, ʡθֵ
+	 * 在指定位置插入一条记录
+	 * @param pos int 位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
+	 * @param values Object[] 字段对应的值
+	 * @param fields String[] 字段名, 省略则依次赋值
 	 */
 	public void insert(int pos, Object []values, String []fields) {
 		if (values == null) {
@@ -608,10 +608,10 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ʽָλòһ¼
-	 * @param pos int λã1ʼ0ʾ׷ӣԽԶС0Ӻ
-	 * @param exps Expression[] ֵʽôTable
-	 * @param fields String[]ֶ, ʡθֵ
+	 * 计算表达式，在指定位置插入一条记录
+	 * @param pos int 位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
+	 * @param exps Expression[] 值表达式，可引用此Table
+	 * @param fields String[]字段名, 省略则依次赋值
 	 * @param ctx Context
 	 * @return BaseRecord
 	 */
@@ -637,11 +637,11 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * 򣬰ֵ²ļ¼뵽ʵλãѴ򲻲
-	 * @param exps ֵֶʽ
-	 * @param fields ֶ
-	 * @param ctx 
-	 * @return ²ļ¼
+	 * 序表按主键有序，按主键值把新产生的记录插入到适当的位置，如果已存在则不插入
+	 * @param exps 字段值表达式数组
+	 * @param fields 字段名数组
+	 * @param ctx 计算上下文
+	 * @return 新插入的记录
 	 */
 	public BaseRecord sortedInsert(Expression[] exps, String[] fields, Context ctx) {
 		Record r = new Record(ds);
@@ -649,7 +649,7 @@ public class Table extends Sequence {
 		stack.push(r);
 
 		try {
-			// ɼ¼ֶοǰղֶ
+			// 生成记录，后面的字段可以引用前面刚产生的字段
 			int count = exps.length;
 			if (fields == null) {
 				for (int i = 0; i < count; ++i) {
@@ -680,7 +680,7 @@ public class Table extends Sequence {
 			stack.pop();
 		}
 		
-		// Ҽ¼λ
+		// 根据主键查找记录位置
 		int index = pfindByKey(r.getPKValue(), true);
 		if (index < 0) {
 			mems.insert(-index, r);
@@ -690,7 +690,7 @@ public class Table extends Sequence {
 		}
 	}
 
-	// 룬Ѵ򲻲
+	// 有序插入，如果已存在则不插入
 	public Sequence sortedInsert(Sequence src, Expression[] exps, String[] fields, String opt, Context ctx) {
 		int count = exps.length;
 		int fcount = ds.getFieldCount();
@@ -723,7 +723,7 @@ public class Table extends Sequence {
 						index[i] = 0;
 					} else {
 						index[i] = index[i - 1] + 1;
-						if (index[i] == fcount) { // Խ
+						if (index[i] == fcount) { // 越界
 							MessageManager mm = EngineMessage.get();
 							throw new RQException("insert" + mm.getMessage("function.invalidParam"));
 						}
@@ -805,7 +805,7 @@ public class Table extends Sequence {
 			result = this;
 		}
 
-		if (isName) { // ֵֶֻͬ
+		if (isName) { // 只复制相同名字的字段
 			Record prev = null;
 			int sameCount = 0;
 			int []srcIndex = null;
@@ -865,14 +865,14 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ָλò¼
-	 * @param pos int λã1ʼ0ʾ׷ӣԽԶС0Ӻ
-	 * @param src Sequence ʽԵԴ
-	 * @param exps Expression[] ʽ
-	 * @param optExps Expression[] Żʽ
-	 * @param fields String[] ֶ, ʡθֵ
+	 * 在指定位置插入多条记录
+	 * @param pos int 位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
+	 * @param src Sequence 计算表达式所针对的源序列
+	 * @param exps Expression[] 计算表达式
+	 * @param optExps Expression[] 优化表达式
+	 * @param fields String[] 字段名, 省略则依次赋值
 	 * @param ctx Context
-	 * @param opt String n²ļ¼ɵ
+	 * @param opt String n：返回新插入的记录构成的序列
 	 * @return Sequence
 	 */
 	public Sequence insert(int pos, Sequence src, Expression[] exps,
@@ -926,7 +926,7 @@ public class Table extends Sequence {
 						index[i] = 0;
 					} else {
 						index[i] = index[i - 1] + 1;
-						if (index[i] == fcount) { // Խ
+						if (index[i] == fcount) { // 越界
 							MessageManager mm = EngineMessage.get();
 							throw new RQException("insert" + mm.getMessage("function.invalidParam"));
 						}
@@ -993,8 +993,8 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * tableļ¼ӵָλãtableֶͬ
-	 * @param pos int λã1ʼ0ʾ׷ӣԽԶС0Ӻ
+	 * 将序表table的记录添加到此序表指定位置，并清空table，序表字段数需相同
+	 * @param pos int 位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
 	 * @param table Table
 	 */
 	public void insert(int pos, Table table) {
@@ -1003,7 +1003,7 @@ public class Table extends Sequence {
 		IArray mems = getMems();
 		int oldCount = mems.size();
 		if (pos == 0) {
-			pos = oldCount + 1; // 0ʾ׷
+			pos = oldCount + 1; // 0表示追加
 		} else if (pos < 0) {
 			pos += oldCount + 1;
 			if (pos < 1) {
@@ -1017,7 +1017,7 @@ public class Table extends Sequence {
 			throw new RQException(mm.getMessage("engine.dsNotMatch"));
 		}
 
-		// ļ¼
+		// 更改记录所属的序表和序号
 		IArray addMems = table.getMems();
 		int addCount = addMems.size();
 		DataStruct ds = this.ds;
@@ -1026,8 +1026,8 @@ public class Table extends Sequence {
 			r.setDataStruct(ds);
 		}
 
-		if (pos > oldCount) { // ׷
-			insert(oldCount + 1, pos - oldCount - 1, null); // ԽԶ
+		if (pos > oldCount) { // 追加
+			insert(oldCount + 1, pos - oldCount - 1, null); // 越界自动补
 		}
 
 		mems.insertAll(pos, addMems);
@@ -1035,7 +1035,7 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ϲеݣм򷵻ԭз򷵻
+	 * 合并两个序列的数据，如果序列兼容则返回原序列否则返回新序列
 	 * @param seq
 	 * @return Sequence
 	 */
@@ -1064,9 +1064,9 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * tableļ¼ӵУtableֶͬ
+	 * 将序表table的记录添加到此序表中，并清空table，序表字段数需相同
 	 * @param table Table
-	 * @param opt String pȥԴظļ¼
+	 * @param opt String p：若有主键，去掉源序表中主键重复的记录
 	 */
 	public void append(Table table, String opt) {
 		if (table == null) return;
@@ -1079,7 +1079,7 @@ public class Table extends Sequence {
 		IArray mems = getMems();
 		int oldCount = mems.size();
 
-		// ȥԴֵtableдڵļ¼
+		// 去掉源序表中主键值在table中存在的记录
 		if (opt != null && opt.indexOf('p') != -1 && getPrimary() != null) {
 			IntArrayList posArray = new IntArrayList();
 
@@ -1098,7 +1098,7 @@ public class Table extends Sequence {
 			}
 		}
 
-		// ļ¼
+		// 更改记录所属的序表和序号
 		DataStruct ds = this.ds;
 		for (int i = 1, addCount = addMems.size(); i <= addCount; ++i) {
 			Record r = (Record)addMems.get(i);
@@ -1110,9 +1110,9 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * tablesļ¼ӵУtablesֶͬ
+	 * 将序表tables的记录添加到此序表中，并清空tables，序表字段数需相同
 	 * @param tables Table[]
-	 * @param opt String pȥԴظļ¼
+	 * @param opt String p：若有主键，去掉源序表中主键重复的记录
 	 */
 	public void append(Table []tables, String opt) {
 		if (tables == null || tables.length == 0) return;
@@ -1147,7 +1147,7 @@ public class Table extends Sequence {
 			if (table != null) {
 				IArray addMems = table.getMems();
 
-				// ļ¼
+				// 更改记录所属的序表和序号
 				for (int m = 1, addCount = addMems.size(); m <= addCount; ++m) {
 					Record r = (Record)addMems.get(m);
 					r.setDataStruct(ds);
@@ -1160,9 +1160,9 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ָ¼
-	 * @param from int ʼλã
-	 * @param to int λã
+	 * 把指定区间记录分离出来
+	 * @param from int 起始位置，包含
+	 * @param to int 结束位置，包含
 	 * @return Sequence
 	 */
 	public Sequence split(int from, int to) {
@@ -1184,10 +1184,10 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ޸ĳһ¼ԽӼ¼
-	 * @param pos int ¼ʼλã1ʼ0ʾ׷ӣԽԶС0Ӻ
-	 * @param values Object[] ֶζӦֵ
-	 * @param fields String[] ֶ, ʡθֵ
+	 * 修改某一记录，越界则添加记录
+	 * @param pos int 记录开始位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
+	 * @param values Object[] 字段对应的值
+	 * @param fields String[] 字段名, 省略则依次赋值
 	 */
 	public void modify(int pos, Object []values, String []fields) {
 		if (values == null) {
@@ -1232,12 +1232,12 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ʽ޸ĳһ¼ԽӼ¼
-	 * @param pos int ¼ʼλã1ʼ0ʾ׷ӣԽԶС0Ӻ
-	 * @param exps Expression[] ֵʽôTable
-	 * @param fields String[]ֶ, ʡθֵ
+	 * 计算表达式，修改某一记录，越界则添加记录
+	 * @param pos int 记录开始位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
+	 * @param exps Expression[] 值表达式，可引用此Table
+	 * @param fields String[]字段名, 省略则依次赋值
 	 * @param ctx Context
-	 * @return ر޸ĵļ¼
+	 * @return 返回被修改的记录
 	 */
 	public BaseRecord modify(int pos, Expression[] exps, String[] fields, Context ctx) {
 		if (exps == null) {
@@ -1258,7 +1258,7 @@ public class Table extends Sequence {
 		BaseRecord r = getRecord(pos);
 		int count = exps.length;
 
-		// tableѹջʽõǰ¼ֶ
+		// 把table压栈，允许表达式引用当前记录的字段
 		ComputeStack stack = ctx.getComputeStack();
 		Current current = new Current(this);
 		stack.push(current);
@@ -1297,14 +1297,14 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ޸Ķ¼ԽӼ¼
-	 * @param pos int ¼ʼλã1ʼ0ʾ׷ӣԽԶС0Ӻ
-	 * @param src Sequence ʽԵԴ
-	 * @param exps Expression[] ʽ
-	 * @param optExps Expression[] Żʽ
-	 * @param fields String[] ֶ, ʡθֵ
+	 * 修改多条记录，越界则添加记录
+	 * @param pos int 记录开始位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
+	 * @param src Sequence 计算表达式所针对的源序列
+	 * @param exps Expression[] 计算表达式
+	 * @param optExps Expression[] 优化表达式
+	 * @param fields String[] 字段名, 省略则依次赋值
 	 * @param ctx Context
-	 * @param n²ļ¼ɵ
+	 * @param n：返回新插入的记录构成的序列
 	 * @return
 	 */
 	public Sequence modify(int pos, Sequence src, Expression[] exps,
@@ -1359,7 +1359,7 @@ public class Table extends Sequence {
 						index[i] = 0;
 					} else {
 						index[i] = index[i - 1] + 1;
-						if (index[i] == fcount) { // Խ
+						if (index[i] == fcount) { // 越界
 							MessageManager mm = EngineMessage.get();
 							throw new RQException("insert" + mm.getMessage("function.invalidParam"));
 						}
@@ -1379,7 +1379,7 @@ public class Table extends Sequence {
 		}
 
 		int last = pos + mlen - 1;
-		getRecord(last); // ԽԶ
+		getRecord(last); // 如果越界自动补
 
 		Object []values = new Object[count];
 		Object []lastOptVals = new Object[count];
@@ -1430,10 +1430,10 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * еԪΪֵֶɼ¼뵽
-	 * @param pos int λã0ʾ׷
-	 * @param src Sequence ֵ
-	 * @param opt String i¼¼n²ļ¼ɵ
+	 * 把序列的元素作为字段值生成记录插入到序表中
+	 * @param pos int 位置，0表示追加
+	 * @param src Sequence 值序列
+	 * @param opt String i：插入新记录，n：返回新插入的记录构成的序列
 	 */
 	public Sequence record(int pos, Sequence src, String opt) {
 		if (pos < 0 || src == null) {
@@ -1467,10 +1467,10 @@ public class Table extends Sequence {
 		if (pos == 0) pos = mems.size() + 1;
 
 		if (isInsert) {
-			// posrecordCount¼¼
+			// 在pos处插入recordCount条新记录
 			insert(pos, recordCount, null);
 		} else {
-			getRecord(pos + recordCount - 1); // ԽԶ
+			getRecord(pos + recordCount - 1); // 如果越界自动补
 		}
 		
 		if (mod == 0) {
@@ -1578,9 +1578,9 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ɾ¼
-	 * @param series Sequence λл¼
-	 * @param opt String n رɾԪعɵ
+	 * 删除多条记录
+	 * @param series Sequence 位置序列或记录序列
+	 * @param opt String n 返回被删的元素构成的序列
 	 */
 	public Sequence delete(Sequence series, String opt) {
 		if (series == null || series.length() == 0) {
@@ -1606,7 +1606,7 @@ public class Table extends Sequence {
 			int count = delMems.size();
 			index = new int[count];
 
-			// Ҫɾļ¼еλ
+			// 查找要删除的记录在序表中的位置
 			for (int i = 1; i <= count; ++i) {
 				Object obj = delMems.get(i);
 				if (obj instanceof BaseRecord) {
@@ -1647,7 +1647,7 @@ public class Table extends Sequence {
 			}
 		}
 
-		// 
+		// 对索引进行排序
 		Arrays.sort(index);
 
 		if (opt == null || opt.indexOf('n') == -1) {
@@ -1686,11 +1686,11 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * srcֵֶ¼Ӧֶ
-	 * @param pos int ¼ʼλã1ʼ0ʾ׷ӣԽԶС0Ӻ
-	 * @param src Sequence Դ
-	 * @param isInsert true:¼¼
-	 * @param opt fֶȽиƣn޸ĵļ¼ɵ
+	 * 把序表src的字段值赋给此序表记录的相应字段
+	 * @param pos int 记录开始位置，从1开始计数，0表示追加，越界自动补，小于0则从后数
+	 * @param src Sequence 源排列
+	 * @param isInsert true:插入新记录
+	 * @param opt f：按字段名相等进行复制，n：返回修改的记录组成的排列
 	 */
 	public Sequence modify(int pos, Sequence src, boolean isInsert, String opt) {
 		IArray mems = getMems();
@@ -1729,7 +1729,7 @@ public class Table extends Sequence {
 		if (isInsert) {
 			insert(pos, count, null);
 		} else {
-			getRecord(pos + count - 1); // ԽԶ
+			getRecord(pos + count - 1); // 如果越界自动补
 		}
 
 		Sequence result;
@@ -1742,7 +1742,7 @@ public class Table extends Sequence {
 			result = this;
 		}
 
-		if (isName) { // ֵֶֻͬ
+		if (isName) { // 只复制相同名字的字段
 			DataStruct ds = this.ds;
 			BaseRecord prev = null;
 			int sameCount = 0;
@@ -1791,9 +1791,9 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * 
+	 * 设置序表的主键
 	 * @param fields String[]
-	 * @param opt String bpfind/find/get/putԶ@b
+	 * @param opt String b：pfind/find/get/put操作自动加@b
 	 */
 	public void setPrimary(String []fields) {
 		ds.setPrimary(fields);
@@ -1801,10 +1801,10 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * 
+	 * 设置序表的主键
 	 * @param fields String[]
-	 * @param timeKey String tһΪʱ
-	 * @param opt String bpfind/find/get/putԶ@b
+	 * @param timeKey String t：最后一个为时间键
+	 * @param opt String b：pfind/find/get/put操作自动加@b
 	 */
 	public void setPrimary(String []fields, String opt) {
 		ds.setPrimary(fields, opt);
@@ -1812,26 +1812,26 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * 
-	 * @param opt mнsźʱɶ״
-	 * böַңѡʺΪַά¼ٵַϣȽ
+	 * 用主键创建索引表
+	 * @param opt m：并行建立，s：键是排号时则建立成多层树状索引，
+	 * b：序表按主键有序，用二分法找（此选项适合主键为字符串，维表记录少的情况，字符串算哈希比较慢）
 	 */
 	public void createIndexTable(String opt) {
 		createIndexTable(length(), opt);
 	}
 
 	/**
-	 * 
-	 * @param capacity ϣ
-	 * @param opt mнsźʱɶ״
-	 * böַңѡʺΪַά¼ٵַϣȽ
+	 * 用主键创建索引表
+	 * @param capacity 索引哈希表容量
+	 * @param opt m：并行建立，s：键是排号时则建立成多层树状索引，
+	 * b：序表按主键有序，用二分法找（此选项适合主键为字符串，维表记录少的情况，字符串算哈希比较慢）
 	 */
 	public void createIndexTable(int capacity, String opt) {
 		int []fields = ds.getPKIndex();
 		if (fields == null) {
 			ds.setPrimary(null, opt);
 			if (ds.isSeqKey()) {
-				// ź
+				// 创排号索引
 				indexTable = new SeqIndexTable(this);
 			} else {
 				MessageManager mm = EngineMessage.get();
@@ -1840,7 +1840,7 @@ public class Table extends Sequence {
 		} else if (ds.getTimeKeyCount() == 1) {
 			indexTable = new TimeIndexTable(this, fields, capacity);
 		} else if (ds.isSeqKey()) {
-			// 
+			// 创建序号索引
 			indexTable = new SeqIndexTable(this);
 		} else if (fields.length == 1 && opt != null && opt.indexOf('s') != -1) {
 			SerialBytesIndexTable sbi = new SerialBytesIndexTable();
@@ -1854,12 +1854,14 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ݱ޸ģѴؽ
+	 * 序表数据被修改，如果索引表已创建则重建索引表
 	 */
 	public void rebuildIndexTable() {
 		if (indexTable != null) {
 			if (indexTable instanceof HashIndexTable) {
 				createIndexTable(((HashIndexTable)indexTable).getCapacity(), null);
+			} else if (indexTable instanceof IntHashIndexTable) {
+				createIndexTable(length(), null);
 			} else { // SerialBytesIndexTable
 				createIndexTable("s");
 			}
@@ -1867,15 +1869,15 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * 
-	 * @param indexTable 
+	 * 设置序表的索引表
+	 * @param indexTable 索引表
 	 */
 	public void setIndexTable(IndexTable indexTable) {
 		this.indexTable = indexTable;
 	}
 	
 	/**
-	 * ȡ
+	 * 取序表的索引表
 	 * @return IndexTable
 	 */
 	public IndexTable getIndexTable() {
@@ -1883,9 +1885,9 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ȡûд򷵻ؿ
-	 * @param exp ֶαʽ
-	 * @param ctx 
+	 * 取序表的索引表，如果没有创建则返回空
+	 * @param exp 索引字段表达式
+	 * @param ctx 计算上下文
 	 * @return IndexTable
 	 */
 	public IndexTable getIndexTable(Expression exp, Context ctx) {
@@ -1905,9 +1907,9 @@ public class Table extends Sequence {
 	}
 	
 	/**
-	 * ȡûд򷵻ؿ
-	 * @param exps ֶαʽ
-	 * @param ctx 
+	 * 取序表的索引表，如果没有创建则返回空
+	 * @param exps 索引字段表达式数组
+	 * @param ctx 计算上下文
 	 * @return IndexTable
 	 */
 	public IndexTable getIndexTable(Expression []exps, Context ctx) {
@@ -1934,14 +1936,14 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ɾ
+	 * 删除索引表
 	 */
 	public void deleteIndexTable() {
 		indexTable = null;
 	}
 	
 	/**
-	 * 
+	 * 返回序表的主键
 	 * @return String[]
 	 */
 	public String[] getPrimary() {
@@ -1949,8 +1951,8 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ֶָ
-	 * @param colIndex ֶ飬0ʼ
+	 * 对序表按指定字段排序
+	 * @param colIndex 字段序号数组，从0开始计数
 	 */
 	public void sortFields(int []colIndex) {
 		RecordFieldComparator comparator = new RecordFieldComparator(colIndex);
@@ -1958,8 +1960,8 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ֶǷö
-	 * @return boolean trueöfalseûö
+	 * 检查字段是否有引用对象
+	 * @return boolean true：有引用对象，false：没有引用对象
 	 */
 	public boolean checkReference() {
 		IArray mems = getMems();
@@ -1972,7 +1974,7 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * ʽɴ
+	 * 将序表格式化成串
 	 */
 	public String toString() {
 		IArray mems = getMems();
@@ -2013,25 +2015,25 @@ public class Table extends Sequence {
 	}
 
 	/**
-	 * Ƿֶָ
-	 * @param fieldName ֶ
-	 * @return truefalse
+	 * 返回排列是否包含指定字段
+	 * @param fieldName 字段名
+	 * @return true：包含，false：不包含
 	 */
 	public boolean containField(String fieldName) {
 		return ds.getFieldIndex(fieldName) != -1;
 	}
 	
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取序表的字段数
+	 * @return 字段数
 	 */
 	public int getFieldCount() {
 		return ds.getFieldCount();
 	}
 	
 	/**
-	 * ȡ¼ݽṹһԪزǼ¼򷵻null
-	 * @return ¼ݽṹ
+	 * 取首条记录的数据结构，如果第一个元素不是记录则返回null
+	 * @return 记录的数据结构
 	 */
 	public DataStruct getFirstRecordDataStruct() {
 		return ds;
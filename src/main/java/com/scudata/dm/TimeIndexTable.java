@@ -10,24 +10,24 @@ import com.scudata.util.HashUtil;
 import com.scudata.util.Variant;
 
 /**
- * ʱֶεĹϣһֶΪʱʱȽбȽϣȡǰ
+ * 带有时间键字段的哈希表，主键的最后一个字段为时间键，时间键不是用相等进行比较，而是取前面最近的
  * @author WangXiaoJun
  *
  */
 public class TimeIndexTable extends IndexTable {
-	private Sequence code; // ԴϣŵԪصλãҪλõԴȡԪ
-	private HashUtil hashUtil; // ڼϣֵ
+	private Sequence code; // 源表，哈希表存放的是元素的位置，需要根据位置到源表取元素
+	private HashUtil hashUtil; // 用于计算哈希值
 	
-	// ʱ֮hashֵ飬ϣֵͬİн
-	// беֵΪ飬ŵǣֵ+ʱֵ+¼
+	// 按除了时间键之外的其它键的hash值分组，哈希值相同的按所有建进行排序
+	// 列表中的值为数组，存放的是：键值+时间键值+记录序号
 	private ListBase1[] entries;
 	private int totalKeyCount;
 	
 	/**
-	 * ϣ
-	 * @param code Sequence ά
-	 * @param fields int[] ֶһֶΪʱ
-	 * @param capacity ϣ
+	 * 构建哈希表
+	 * @param code Sequence 维表
+	 * @param fields int[] 主键字段索引，最后一个字段为时间键
+	 * @param capacity 哈希表容量
 	 */
 	public TimeIndexTable(Sequence code, int []fields, int capacity) {
 		HashUtil hashUtil = new HashUtil(capacity);
@@ -75,7 +75,7 @@ public class TimeIndexTable extends IndexTable {
 	}
 	
 	/**
-	 * ȡϣ
+	 * 取哈希表容量
 	 * @return
 	 */
 	public int getCapacity() {
@@ -83,7 +83,7 @@ public class TimeIndexTable extends IndexTable {
 	}
 	
 	public Object find(Object key) {
-		// ʱûṩʱֶΣȡµ
+		// 查找时没提供时间字段，取最新的
 		int hash = hashUtil.hashCode(key);
 		ListBase1 table = entries[hash];
 		if (table == null) {
@@ -109,8 +109,8 @@ public class TimeIndexTable extends IndexTable {
 	}
 
 	/**
-	 * ɼԪأҲؿ
-	 * @param keys ֵ
+	 * 由键查找元素，找不到返回空
+	 * @param keys 键值数组
 	 */
 	public Object find(Object []keys) {
 		int count = keys.length;
@@ -128,7 +128,7 @@ public class TimeIndexTable extends IndexTable {
 			} else {
 				index = -index - 1;
 				if (index > 0) {
-					// ʱûȵģȡǰ
+					// 如果时间键没有相等的，而取前面最近的
 					Object []r = (Object[])table.get(index);
 					if (Variant.compareArrays(r, keys, count - 1) == 0) {
 						return code.getMem((Integer)r[count]);
@@ -138,7 +138,7 @@ public class TimeIndexTable extends IndexTable {
 				return null; // key not found
 			}
 		} else {
-			// ʱûṩʱֶΣȡµ
+			// 查找时没提供时间字段，取最新的
 			int hash = hashUtil.hashCode(keys, count);
 			ListBase1 table = entries[hash];
 			if (table == null) {
@@ -165,10 +165,10 @@ public class TimeIndexTable extends IndexTable {
 	}
 
 	/**
-	 * й
-	 * @param exp ˱ʽ
+	 * 由索引进行过滤生成序表并创建新索引
+	 * @param exp 过滤表达式
 	 * @param ctx
-	 * @return Table ļ¼ɵ
+	 * @return Table 满足条件的记录构成的新序表
 	 */
 	public Table select(Expression exp, Context ctx) {
 		Sequence code = this.code;
@@ -220,7 +220,7 @@ public class TimeIndexTable extends IndexTable {
 	}
 	
 	public int findPos(Object key) {
-		// ʱûṩʱֶΣȡµ
+		// 查找时没提供时间字段，取最新的
 		int hash = hashUtil.hashCode(key);
 		ListBase1 table = entries[hash];
 		if (table == null) {
@@ -261,7 +261,7 @@ public class TimeIndexTable extends IndexTable {
 			} else {
 				index = -index - 1;
 				if (index > 0) {
-					// ʱûȵģȡǰ
+					// 如果时间键没有相等的，而取前面最近的
 					Object []r = (Object[])table.get(index);
 					if (Variant.compareArrays(r, keys, count - 1) == 0) {
 						return (Integer)r[count];
@@ -271,7 +271,7 @@ public class TimeIndexTable extends IndexTable {
 				return 0; // key not found
 			}
 		} else {
-			// ʱûṩʱֶΣȡµ
+			// 查找时没提供时间字段，取最新的
 			int hash = hashUtil.hashCode(keys, count);
 			ListBase1 table = entries[hash];
 			if (table == null) {
@@ -7,7 +7,7 @@ import com.scudata.parallel.UnitClient;
 import com.scudata.resources.ParallelMessage;
 
 /**
- * ӦcallxĶ
+ * 对应于callx的多机任务
  * @author Joancy
  *
  */
@@ -16,9 +16,9 @@ public class UnitTasks {
 	static MessageManager mm = ParallelMessage.get();
 	
 	/**
-	 * 캯
-	 * @param ucs ڵб
-	 * @throws Exception ӳ쳣
+	 * 构造函数
+	 * @param ucs 节点机列表
+	 * @throws Exception 构造出错扔出异常
 	 */
 	public UnitTasks(ArrayList<UnitClient> ucs) throws Exception{
 		int len = ucs.size();
@@ -30,9 +30,9 @@ public class UnitTasks {
 	}
 	
 	/**
-	 * 캯
-	 * @param nodes ڵ
-	 * @throws Exception ʱӳ쳣
+	 * 构造函数
+	 * @param nodes 节点机数组
+	 * @throws Exception 出错时扔出异常
 	 */
 	public UnitTasks(UnitClient[] nodes) throws Exception{
 		int len = nodes.length;
@@ -56,18 +56,18 @@ public class UnitTasks {
 		}
 	}
 	/**
-	 * ȡǰĽڵ
-	 * ÷ִк󣬽ڵʺҵһֱڵ
-	 * @return ڵ
+	 * 获取当前最大算力的节点机
+	 * 该方法执行后，节点机假设分配了适合作业数，下一次直接最大算力节点机即可
+	 * @return 最大算力节点机
 	 */
 	public UnitClient getMaxCapacityUC(){
 		return getMaxCapacityUC(null);
 	}
 	
 	/**
-	 * ָŵĽڵҳĽڵ
-	 * @param ucIndexes ָλõĽڵ
-	 * @return ڵ
+	 * 从指定序号的节点机中找出最大算力的节点机
+	 * @param ucIndexes 指定序号位置的节点机
+	 * @return 最大算力节点机
 	 */
 	public UnitClient getMaxCapacityUC(ArrayList<Integer> ucIndexes){
 		UnitTask ut = getMaxCapacityUT(ucIndexes);
@@ -77,8 +77,8 @@ public class UnitTasks {
 	}
 	
 	/**
-	 * ȡڵ
-	 * utIndexΪ Sequenceõ1ʼţҪȥ1
+	 * 获取节点任务
+	 * utIndex为 Sequence中引用的1开始的序号，数组引用要减去1
 	 * @param utIndex
 	 * @return
 	 */
@@ -87,7 +87,7 @@ public class UnitTasks {
 	}
 
 	/**
-	 * ʵִӿ
+	 * 实现串化接口
 	 */
 	public String toString(){
 		StringBuffer sb = new StringBuffer();
@@ -100,11 +100,11 @@ public class UnitTasks {
 		return sb.toString();
 	}
 	/**
-	 * ȡָΧĻҳĽڵ
-	 * ÷ؽڵ󣬲ԶӽڵҪ
-	 * UnitTask.addTaskNum(n)
-	 * @param ucIndexesָΧķֻб
-	 * @return ڵ
+	 * 获取在指定范围的机器内找出最大算力的节点任务
+	 * 该方法返回节点任务后，不自动增加节点机的任务数，需要外层调用
+	 * UnitTask.addTaskNum(n)来计数任务。
+	 * @param ucIndexes，指定范围的分机序号列表
+	 * @return 节点任务
 	 */
 	public UnitTask getMaxCapacityUT(ArrayList<Integer> ucIndexes){
 		if(ucIndexes==null){
@@ -124,8 +124,8 @@ public class UnitTasks {
 	}
 	
 	/**
-	 * ڵǰȫΧĻҳ
-	 * @return ڵ
+	 * 在当前全部范围的机器内找出算力最大的
+	 * @return 节点任务
 	 */
 	public UnitTask getMaxCapacityUT(){
 		UnitTask ut = uts.get(0);
@@ -6,32 +6,32 @@ import com.scudata.dm.cursor.ICursor;
 import com.scudata.dm.cursor.LineInputCursor;
 
 /**
- * ⹤
+ * 对外工具类
  */
 public final class UserUtils {
 	/**
-	 * α
-	 * @param lineInput ILineInput 
-	 * @param opt String ѡ tһΪ⣬iֻ1ʱس
-	 * @return ICursor α
+	 * 由行输入产生游标
+	 * @param lineInput ILineInput 行输入
+	 * @param opt String 选项 t：第一行为标题，i：结果集只有1列时返回成序列
+	 * @return ICursor 游标
 	 */
 	public static ICursor newCursor(ILineInput lineInput, String opt) {
 		return new LineInputCursor(lineInput, opt);
 	}
 	
 	/**
-	 * 
-	 * @param lineInput ILineInput 
-	 * @param opt String ѡ tһΪ⣬iֻ1ʱس
-	 * @return Sequence 
+	 * 由行输入产生序表或序列
+	 * @param lineInput ILineInput 行输入
+	 * @param opt String 选项 t：第一行为标题，i：结果集只有1列时返回成序列
+	 * @return Sequence 序表或序列
 	 */
 	public static Sequence newTable(ILineInput lineInput, String opt) {
 		return newCursor(lineInput, opt).fetch();
 	}
 	
 	/**
-	 * 
-	 * @param values Object[] ֵ
+	 * 由数组产生序列
+	 * @param values Object[] 值数组
 	 * @return Sequence
 	 */
 	public static Sequence newSequence(Object []values) {
@@ -39,8 +39,8 @@ public final class UserUtils {
 	}
 	
 	/**
-	 * List
-	 * @param list List ֵList
+	 * 由List产生序列
+	 * @param list List 值List
 	 * @return Sequence
 	 */
 	public static Sequence newSequence(List<Object> list) {
@@ -8,11 +8,11 @@ import com.scudata.parallel.UnitClient;
 import com.scudata.resources.ParallelMessage;
 
 /**
- * ڴ
- * hosts(;j)	ȡֻjڴţjʡ
- * hosts(i;j)	ñֻjڴţi=0ʾjڴ
- * hosts(n,hs;j)	hsҳhosts(;j)ֵΪ1,,nĿ÷ֻСȱʧhosts()ΪյķֻӦȱʧִֵгʼ(init.dfx)Ҳ㹻ֻؿ
- * n==0ʱؿ÷ֻ÷ֻλnull
+ * 内存区加载器
+ * hosts(;j)	取出本分机上任务j的内存区号，j可省略
+ * hosts(i;j)	设置本分机上任务j的内存区号，i=0表示清除任务j的内存区号
+ * hosts(n,hs;j)	在hs中找出hosts(;j)返回值为1,…,n的可用分机序列。有缺失者则在hosts()为空的分机用相应缺失值执行初始化(init.dfx)，找不到足够多分机返回空
+ * n==0时返回可用分机，不可用分机的位置填成null
  * 
  * @author Joancy
  */
@@ -24,20 +24,20 @@ public class ZoneLoader {
 	private Machines hs = null;
 	
 
-	// Ѿҵ˼ĻҪִdfxصĻܰѾҵĻظָͬһip˿ڵĻȷҪǲͬĻ
+	// 已经找到了加载区的机器，需要执行dfx加载的机器不能包含已经找到加载区的机器，但是重复指定同一ip端口的机器确要算是不同的机器。
 	private transient ArrayList<UnitClient> dispatchedNodes = new ArrayList<UnitClient>();
 	static MessageManager mm = ParallelMessage.get();
 
 	/**
-	 * һڴ
+	 * 构造一个内存区加载器
 	 */
 	public ZoneLoader() {
 	}
 
 	/**
-	 * ò
-	 * @param i jڴţi=0ʾjڴ
-	 * @param j ʡnull
+	 * 设置参数
+	 * @param i 设置任务j的内存区号，i=0表示清除任务j的内存区号
+	 * @param j 任务名，省略用null
 	 */
 	public void setArgs(Integer i, String j) {
 		this.I = i;
@@ -45,10 +45,10 @@ public class ZoneLoader {
 	}
 
 	/**
-	 * ò
-	 * @param n n==0ʱؿ÷ֻ÷ֻλnull
-	 * @param hs ֻ
-	 * @param j  
+	 * 设置参数
+	 * @param n n==0时返回可用分机，不可用分机的位置填成null
+	 * @param hs 分机组
+	 * @param j  任务名
 	 */
 	public void setArgs(Integer n, Machines hs, String j) {
 		if(n!=null && n>0){
@@ -59,9 +59,9 @@ public class ZoneLoader {
 	}
 	
 	/**
-	 * ָķֻͻ
-	 * @param nodes ֻͻб
-	 * @throws Exception ӳ׳쳣
+	 * 连接指定的分机客户端
+	 * @param nodes 分机客户端列表
+	 * @throws Exception 连接出错抛出异常
 	 */
 	public static void connectNodes(ArrayList<UnitClient> nodes)
 			throws Exception {
@@ -72,8 +72,8 @@ public class ZoneLoader {
 	}
 
 	/**
-	 * صֻͻ˵
-	 * @param nodes ֻͻб
+	 * 关掉分机客户端的连接
+	 * @param nodes 分机客户端列表
 	 */
 	public static void closeNodes(ArrayList<UnitClient> nodes) {
 		for (int i = 0; i < nodes.size(); i++) {
@@ -83,10 +83,10 @@ public class ZoneLoader {
 	}
 	
 	/**
-	 * ָķֻҳ˵Ļ
-	 * @param deadAsNull ûķֻʹnull
-	 * @return ֻͻб
-	 * @throws Exception г̳׳쳣
+	 * 从指定的分机名称中找出启动了的机器
+	 * @param deadAsNull 没有启动的分机使用null对象加入
+	 * @return 分机客户端列表
+	 * @throws Exception 列出过程出错抛出异常
 	 */
 	public ArrayList<UnitClient> listLiveClients( boolean deadAsNull) throws Exception {
 		ArrayList<UnitClient> liveNodes = new ArrayList<UnitClient>();
@@ -103,15 +103,15 @@ public class ZoneLoader {
 	}
 	
 	/**
-	 * ɹzoneӦķֻУ򷵻null
-	 * @return ֻ
+	 * 成功返回与zone对应的分机序列，否则返回null
+	 * @return 分机序列
 	 */
 	public Object execute() {
 		if(hs!=null){
 			return getMachines();
 		}
 		if(I==null){
-//			ȡֻjڴţjʡ
+//			取出本分机上任务j的内存区号，j可省略
 			return Env.getAreaNo(J);
 		}
 		Env.setAreaNo( J, I );
@@ -122,7 +122,7 @@ public class ZoneLoader {
 		ArrayList<UnitClient> liveNodes = null;
 		try {
 			Sequence nodes = new Sequence();
-//			n=0лķֻ,ķֻnullռλ
+//			n=0，返回所有活动的分机,不活动的分机用null占位
 			if( N==0 ){
 				ArrayList<UnitClient> stateNodes = listLiveClients(true);
 				for(UnitClient uc:stateNodes){
@@ -142,7 +142,7 @@ public class ZoneLoader {
 				return null;
 			}
 			
-			// ڷľⲻݻִdfx⣬Ǹݵǰƽ䵽ķֻ
+			// 对于分区的均衡不根据机器本身的执行dfx的任务来均衡，而是根据当前任务，平均分配到活动的分机上
 			connectNodes(liveNodes);
 			
 			ArrayList<Integer> areaNos = new ArrayList<Integer>();
@@ -152,7 +152,7 @@ public class ZoneLoader {
 				areaNos.add( areaNo );
 			}
 			
-//				Ȱڴ˳򣬽Ѿعķֻҳ
+//				先按内存区顺序，将已经加载过的分机找出来
 			boolean lackZone = false;
 			for (int i = 1; i <= N; i++) {
 				Integer zone = i;
@@ -168,7 +168,7 @@ public class ZoneLoader {
 					dispatchedNodes.add(uc);
 				}
 			}
-//				ٲмȱʧķֻ֮Ҫ沽ɣҪѾʹõķֻ޳
+//				再补上中间区号缺失的分机，之所以要等上面步骤完成，是要将已经使用的分机剔除
 			if(lackZone){
 				for (int i = 1; i <= N; i++) {
 					UnitClient uc = (UnitClient)nodes.get(i);
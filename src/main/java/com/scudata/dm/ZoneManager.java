@@ -8,7 +8,7 @@ import com.scudata.parallel.Response;
 import com.scudata.server.unit.UnitServer;
 
 /**
- * ڴ
+ * 内存加载区管理器
  * @author Joancy
  *
  */
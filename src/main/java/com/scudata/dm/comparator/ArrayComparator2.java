@@ -5,7 +5,7 @@ import java.util.Comparator;
 import com.scudata.common.ICloneable;
 
 /**
- * ȽnullС
+ * 数组比较器，null当做最小处理
  * @author WangXiaoJun
  *
  */
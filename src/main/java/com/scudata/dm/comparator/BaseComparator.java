@@ -5,7 +5,7 @@ import java.util.Comparator;
 import com.scudata.util.Variant;
 
 /**
- * nullСıȽ
+ * null当做最小处理的比较器
  * @author WangXiaoJun
  *
  */
@@ -16,14 +16,14 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * nullСıȽ
+ * null当做最小处理的比较器
  * @author WangXiaoJun
  *
  */
 public class CommonComparator implements Comparator<Object>, ICloneable {
-	private final Collator collator; // ԱȽַȽ
-	private final boolean isAsc; // Ƿ
-	private final boolean isNullLast; // null
+	private final Collator collator; // 语言比较器，用于字符串比较
+	private final boolean isAsc; // 是否升序排序
+	private final boolean isNullLast; // null放最后
 	
 	public CommonComparator(Collator collator, boolean isAsc, boolean isNullLast) {
 		this.collator = collator;
@@ -139,7 +139,7 @@ public class CommonComparator implements Comparator<Object>, ICloneable {
 				}
 			}
 		} else if (o1 instanceof BaseRecord && o2 instanceof BaseRecord) {
-			// Ϊ˱֤groupidjoinСû
+			// 为了保证group、id、join等能正常工作，但大小没意义
 			if (isAsc) {
 				return ((BaseRecord)o1).compareTo((BaseRecord)o2);
 			} else {
@@ -5,7 +5,7 @@ import java.util.Comparator;
 import com.scudata.common.ICloneable;
 
 /**
- * Ƚ
+ * 降序排序比较器
  * @author WangXiaoJun
  *
  */
@@ -7,9 +7,9 @@ import com.scudata.common.ICloneable;
 import com.scudata.common.RQException;
 import com.scudata.util.Variant;
 
-// Env.LocaleӦıȽȱʡȽַunicodeֵ
+// Env.Locale对应的比较器，缺省比较字符串的unicode值
 public class LocaleComparator implements Comparator<Object>, ICloneable {
-	private final Collator collator; // ԱȽַȽ
+	private final Collator collator; // 语言比较器，用于字符串比较
 	private boolean throwExcept = true;
 
 	public LocaleComparator(Collator collator) {
@@ -5,7 +5,7 @@ import java.util.Comparator;
 import com.scudata.common.ICloneable;
 
 /**
- * PSortItemȽڷλõ
+ * PSortItem对象比较器，用于返回位置的排序
  * @author WangXiaoJun
  *
  */
@@ -13,8 +13,8 @@ public class PSortComparator implements Comparator<Object>, ICloneable {
 	private Comparator<Object> comparator;
 
 	/**
-	 * ָȽ
-	 * @param comparator Comparator Ϊ
+	 * 用指定比较起进行排序
+	 * @param comparator Comparator 不可为空
 	 */
 	public PSortComparator(Comparator<Object> comparator) {
 		this.comparator = comparator;
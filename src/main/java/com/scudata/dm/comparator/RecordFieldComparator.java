@@ -5,12 +5,12 @@ import java.util.Comparator;
 import com.scudata.dm.BaseRecord;
 
 /**
- * ռ¼ֶָνбȽϵıȽ
+ * 按照记录指定字段进行比较的比较器
  * @author WangXiaoJun
  *
  */
 public class RecordFieldComparator implements Comparator<Object> {
-	private int []fieldIndex; // ¼ֶ
+	private int []fieldIndex; // 记录字段序号
 	
 	public RecordFieldComparator(int[] fieldIndex) {
 		this.fieldIndex = fieldIndex;
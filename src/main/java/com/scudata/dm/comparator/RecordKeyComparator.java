@@ -6,7 +6,7 @@ import com.scudata.dm.BaseRecord;
 import com.scudata.util.Variant;
 
 /**
- * ռ¼бȽϵıȽ
+ * 按照记录主键进行比较的比较器
  * @author WangXiaoJun
  *
  */
@@ -2,6 +2,8 @@ package com.scudata.dm.cursor;
 
 import java.io.IOException;
 
+import com.scudata.array.IArray;
+import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.BFileReader;
 import com.scudata.dm.Context;
@@ -9,48 +11,49 @@ import com.scudata.dm.DataStruct;
 import com.scudata.dm.Env;
 import com.scudata.dm.FileObject;
 import com.scudata.dm.Sequence;
+import com.scudata.resources.EngineMessage;
 
 /**
- * ļα
+ * 集文件游标
  * @author
  *
  */
 public class BFileCursor extends ICursor {
-	private FileObject fileObject; // ļ
-	private String []fields; // ѡֶ
+	private FileObject fileObject; // 文件对象
+	private String []fields; // 选出字段
 	
-	// ڶ߳
-	private int segSeq; // ֶκ
-	private int segCount; // ܶ
+	// 用于多线程运算
+	private int segSeq; // 分段号
+	private int segCount; // 总段数
 	
-	private String opt; // ѡ
-	private int fileBufSize = Env.FILE_BUFSIZE; // ļʱĻС
-	private BFileReader reader; // ļȡ
-	private boolean isDeleteFile; // αرպɾԴļڼвʱļ
+	private String opt; // 选项
+	private int fileBufSize = Env.FILE_BUFSIZE; // 读物理文件时的缓冲区大小
+	private BFileReader reader; // 集文件读取器
+	private boolean isDeleteFile; // 游标关闭后删除源文件，用于计算过程中产生的临时集文件
 
-	// Էֶ㣬ļʼλúͽλãͷȥβ
+	// 对分段做换算，换算成物理文件的起始位置和结束位置，会做掐头去尾处理
 	private long startPos = -1;
 	private long endPos;
 	
 	/**
-	 * ļα
-	 * @param fileObject ļ
-	 * @param fields ѡֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 创建集文件游标
+	 * @param fileObject 文件对象
+	 * @param fields 选出字段
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public BFileCursor(FileObject fileObject, String []fields, String opt, Context ctx) {
 		this(fileObject, fields, 1, 1, opt, ctx);
 	}
 
 	/**
-	 * ļα
-	 * @param fileObject ļ
-	 * @param fields ѡֶ
-	 * @param segSeq ǰαҪĶΣ1ʼ
-	 * @param segCount ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 创建集文件游标
+	 * @param fileObject 文件对象
+	 * @param fields 选出字段
+	 * @param segSeq 当前游标要读的段，从1开始计数
+	 * @param segCount 分段数
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public BFileCursor(FileObject fileObject, String []fields, 
 			int segSeq, int segCount, String opt, Context ctx) {
@@ -71,9 +74,9 @@ public class BFileCursor extends ICursor {
 	}
 
 	/**
-	 * öļʼλúͽλ
-	 * @param startPos ʼλãͷȥβ
-	 * @param endPos λ
+	 * 设置读文件的起始位置和结束位置
+	 * @param startPos 起始位置，会做掐头去尾处理
+	 * @param endPos 结束位置
 	 */
 	public void setPosRange(long startPos, long endPos) {
 		this.startPos = startPos;
@@ -81,16 +84,32 @@ public class BFileCursor extends ICursor {
 	}
 	
 	/**
-	 * öļС
+	 * 设置读文件缓冲区大小
 	 * @param size
 	 */
 	public void setFileBufferSize(int size) {
 		this.fileBufSize = size;
 	}
 
+	// 打开集文件读取器，定位到起始位置
+	private void openReader() throws IOException {
+		reader.open(fileBufSize);
+		DataStruct ds = reader.getResultSetDataStruct();
+		setDataStruct(ds);
+		
+		if (!isDeleteFile && ctx != null) {
+			ctx.addResource(this);
+		}
+		
+		if (startPos > 0) {
+			reader.seek(startPos);
+			reader.setEndPos(endPos);
+		}
+	}
+	
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -100,18 +119,7 @@ public class BFileCursor extends ICursor {
 		
 		try {
 			if (!reader.isOpen()) {
-				reader.open(fileBufSize);
-				DataStruct ds = reader.getResultSetDataStruct();
-				setDataStruct(ds);
-				
-				if (!isDeleteFile && ctx != null) {
-					ctx.addResource(this);
-				}
-				
-				if (startPos > 0) {
-					reader.seek(startPos);
-					reader.setEndPos(endPos);
-				}
+				openReader();
 			}
 			
 			Sequence seq = reader.read(n);
@@ -123,9 +131,58 @@ public class BFileCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 返回能否用fetchArrays按列读取
+	 * 游标上附加了运算、有peek等缓存的数据、或者读出的不是记录时不能
+	 * @return boolean
+	 */
+	public boolean canFetchArrays() {
+		if (opList != null || cache != null || reader == null) {
+			return false;
+		}
+		
+		try {
+			if (!reader.isOpen()) {
+				openReader();
+			}
+		} catch (IOException e) {
+			close();
+			throw new RQException(e.getMessage(), e);
+		}
+		
+		return reader.canReadArrays();
+	}
+	
+	/**
+	 * 按列读取指定条数的数据，每个字段的值存成一个数组，不需要产生记录
+	 * 需要先调用canFetchArrays判断能否按列读取
+	 * @param n 数量
+	 * @return IArray[] 选出字段的值数组，取完时返回空
+	 */
+	public IArray[] fetchArrays(int n) {
+		if (n < 1 || reader == null) {
+			return null;
+		} else if (!canFetchArrays()) {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException("fetchArrays" + mm.getMessage("function.invalidParam"));
+		}
+		
+		try {
+			IArray []arrays = reader.readArrays(n);
+			if (arrays == null) {
+				close();
+			}
+			
+			return arrays;
+		} catch (Exception e) {
+			close();
+			throw new RQException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (n < 1 || reader == null) {
@@ -134,14 +191,7 @@ public class BFileCursor extends ICursor {
 		
 		try {
 			if (!reader.isOpen()) {
-				reader.open(fileBufSize);
-				DataStruct ds = reader.getResultSetDataStruct();
-				setDataStruct(ds);
-				
-				if (startPos > 0) {
-					reader.seek(startPos);
-					reader.setEndPos(endPos);
-				}
+				openReader();
 			}
 			
 			long count = reader.skip(n);
@@ -153,7 +203,7 @@ public class BFileCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -181,8 +231,8 @@ public class BFileCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
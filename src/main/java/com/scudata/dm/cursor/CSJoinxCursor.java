@@ -17,58 +17,58 @@ import com.scudata.util.CursorUtil;
 import com.scudata.util.Variant;
 
 /**
- * αjoinx࣬ǹ鲢
- * αһɷֶμļfʵTjoin㣬f/Tж
- * α갴f/TķֶϢдʱļ
+ * 游标joinx类，（不是归并）
+ * 游标与一个可分段集文件f或实表T做join运算，f/T可以有多组
+ * 把游标按照f/T的分段信息写出到若干临时文件
  * @author 
  *
  */
 public class CSJoinxCursor extends ICursor {
 	public static final String SEQ_FIELDNAME = "rq_csjoinx_seq_";
-	private boolean hasU;//true:ԭ
-	private boolean hasO;//true:ԭ
+	private boolean hasU;//true:不保持原序
+	private boolean hasO;//true:不保持原序
 	private boolean isEnd;
-	private boolean hasSeq = false;//Ƿ׷ӹֶ
-	private boolean needOrgName = false;//Ƿfname
-	private int orgFieldsCount;//fnameԭ¼ֶ
-	private int seqIndex;//λ
-	private ICursor srcCursor;//Դα
-	private SyncReader []fileOrTable;//ά
-	private Expression [][]fields;//ʵֶ
-	private Expression [][]keys;//άֶ
-	private Expression [][]newExps;//µıʽ
-	private String [][]newNames;//µıʽ
+	private boolean hasSeq = false;//是否追加过序号字段
+	private boolean needOrgName = false;//是否用fname命名
+	private int orgFieldsCount;//fname原记录的字段数
+	private int seqIndex;//序号位置
+	private ICursor srcCursor;//源游标
+	private SyncReader []fileOrTable;//维表
+	private Expression [][]fields;//事实表字段
+	private Expression [][]keys;//维表字段
+	private Expression [][]newExps;//新的表达式
+	private String [][]newNames;//新的表达式名字
 	private String option;
 	private String fname;
-	private int n;//
+	private int n;//缓冲区条数
 	
-	//ڼ
-	private transient ICursor cursor;//άα
+	//用于计算
+	private transient ICursor cursor;//维表游标
 	private transient int fileIndex = 0;
 	private transient int fileSize;
-	private transient ICursor fileCursor;//ʱļα
-	private transient ICursor []fileCursors;//ʱļα
-	private transient Sequence []table;//ǰ
+	private transient ICursor fileCursor;//临时文件游标
+	private transient ICursor []fileCursors;//临时文件游标数组
+	private transient Sequence []table;//当前数据
 	private transient ICursor sortCursor;
 	
-	//һμ
+	//用于最后一次计算
 	private SyncReader lastReader;
-	private transient Expression [][]lastFields;//ʵֶ
-	private transient Expression [][]lastKeys;//άֶ
-	private transient Expression [][]lastNewExps;//µıʽ
-	private transient String [][]lastNewNames;//µıʽ
+	private transient Expression [][]lastFields;//事实表字段
+	private transient Expression [][]lastKeys;//维表字段
+	private transient Expression [][]lastNewExps;//新的表达式
+	private transient String [][]lastNewNames;//新的表达式名字
 
 	/**
 	 * 
-	 * @param cursor 		ʵԴα
-	 * @param fileOrTable	ά
-	 * @param fields		ʵֶ
-	 * @param keys			άֶ
-	 * @param exps			µıʽ
-	 * @param names			µıʽֶ
+	 * @param cursor 		事实表源游标
+	 * @param fileOrTable	维表
+	 * @param fields		事实表字段
+	 * @param keys			维表字段
+	 * @param exps			新的表达式
+	 * @param names			新的表达式的字段名
 	 * @param ctx
 	 * @param option
-	 * @param n				άÿεĻС
+	 * @param n				维表每段的缓冲区大小
 	 */
 	public CSJoinxCursor(ICursor cursor, SyncReader []fileOrTable, Expression [][]fields, Expression [][]keys, 
 			Expression [][]exps, String [][]names, String fname, Context ctx, String option, int n) {
@@ -83,7 +83,7 @@ public class CSJoinxCursor extends ICursor {
 		this.n = n;
 		this.fname = fname;
 		
-		//newNamesnullnewExps
+		//如果newNames里有null，则用newExps替代
 		for (int i = 0, len = newExps.length; i < len; i++) {
 			String[] arr = newNames[i];
 			for (int j = 0, len2 = arr.length; j < len2; j++) {
@@ -102,8 +102,8 @@ public class CSJoinxCursor extends ICursor {
 	}
 
 	/**
-	 * мʱҪı
-	 * ̳õ˱ʽҪ½ʽ
+	 * 并行计算时需要改变上下文
+	 * 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	 */
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
@@ -118,7 +118,7 @@ public class CSJoinxCursor extends ICursor {
 		
 		if (hasO) {
 			if (fcount > 1 || !hasU) {
-				//ֻû@u
+				//如果多轮或者没有@u
 				option = option.replace("o", "");
 				needOrgName = true;
 			}
@@ -129,7 +129,7 @@ public class CSJoinxCursor extends ICursor {
 		opList = null;
 		
 		for (int i = 0; i < fcount; i++) {
-			Sequence values = fileOrTable[i].getValues();//ÿεֵ
+			Sequence values = fileOrTable[i].getValues();//每段的首条值
 
 			boolean needSeq = hasU ? false : i == 0;
 			if (needSeq && (!hasSeq)) {
@@ -141,11 +141,11 @@ public class CSJoinxCursor extends ICursor {
 					isEnd = true;
 					return;
 				}
-				seqIndex = seq.dataStruct().getFieldCount() - 1;//ŵλ
+				seqIndex = seq.dataStruct().getFieldCount() - 1;//保存序号的位置
 			}
 			
 			if (needOrgName && i == 0) {
-				//Ҫfname
+				//如果需要改fname
 				if (hasSeq) {
 					orgFieldsCount = seqIndex;
 				} else {
@@ -164,7 +164,7 @@ public class CSJoinxCursor extends ICursor {
 				return;
 			}
 			
-			//join
+			//进行join
 			FileObject tempFile = null;
 			BFileCursor fCursor = null;
 			try {
@@ -192,7 +192,7 @@ public class CSJoinxCursor extends ICursor {
 						}
 					}
 					opList = opListBk;
-					return;//һjoinдһ
+					return;//最后一个不在这里做join，这样可以少写一次
 				}
 				
 				tempFile = FileObject.createTempFileObject();
@@ -265,7 +265,7 @@ public class CSJoinxCursor extends ICursor {
 	}
 	
 	/**
-	 * ȡһʱļݳjoin
+	 * 读取一段临时文件的数据出来（带join操作）
 	 * @return
 	 */
 	private boolean loadFile() {
@@ -452,8 +452,8 @@ public class CSJoinxCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		super.close();
@@ -477,11 +477,11 @@ public class CSJoinxCursor extends ICursor {
 	}
 	
 	/**
-	 * αдʱļ
-	 * @param cursor α
-	 * @param fields дֶ
-	 * @param values ֶϢ
-	 * @param needSeq Ƿ񱣳ϢΪʵԭ
+	 * 把游标的数据写出到临时文件
+	 * @param cursor 游标
+	 * @param fields 写出字段
+	 * @param values 分段信息
+	 * @param needSeq 是否保持序号信息（为了实现原序）
 	 * @return
 	 */
 	private boolean cursorToFiles(ICursor cursor, Expression []fields, Sequence values, boolean needSeq) {
@@ -494,7 +494,7 @@ public class CSJoinxCursor extends ICursor {
 		setDataStruct(ds);
 		int seqIndex = this.seqIndex;
 
-		//ȡֶindex
+		//获取字段index
 		int fcount = fields.length;
 		int []findex = new int[fcount];
 		for (int f = 0; f < fcount; ++f) {
@@ -520,7 +520,7 @@ public class CSJoinxCursor extends ICursor {
 		long seq = 0;
 		try {
 			while (table != null && table.length() > 0) {
-				//ȡļ¼͵ÿʱoutSeq
+				//遍历取出来的记录，送到每个临时outSeq里
 				int len = table.length();
 				for (int i = 1; i <= len; ++i) {
 					BaseRecord record = (BaseRecord) table.getMem(i);
@@ -557,7 +557,7 @@ public class CSJoinxCursor extends ICursor {
 					
 				}
 				
-				//outSeqsļ¼дļ
+				//把outSeqs里的记录写到文件
 				for (int i = 0; i <= segCount; i++) {
 					files[i].exportSeries(outSeqs[i], "ab", null);
 					outSeqs[i].clear();
@@ -612,7 +612,7 @@ public class CSJoinxCursor extends ICursor {
 		String []oldNames = dataStruct.getFieldNames();
 		int oldColCount = oldNames.length;
 		
-		// ϲֶ
+		// 合并新字段
 		int newColCount = oldColCount + newNames.length;
 		String []totalNames = new String[newColCount];
 		System.arraycopy(oldNames, 0, totalNames, 0, oldColCount);
@@ -625,11 +625,11 @@ public class CSJoinxCursor extends ICursor {
 		int seqIndex = this.seqIndex;
 		DataStruct ds = getDataStruct();
 		
-		//
+		//做排序
 		Expression []exps = new Expression[]{new Expression(CSJoinxCursor.SEQ_FIELDNAME)};
 		ICursor cs = CursorUtil.sortx(this, exps, ctx, this.n, null);
 		
-		//ȥ
+		//去掉序号
 		String []oldFields = ds.getFieldNames();
 		int oldLen = oldFields.length;
 		int newLen = oldLen - 1;
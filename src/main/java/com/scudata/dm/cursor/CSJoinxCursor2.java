@@ -7,24 +7,24 @@ import com.scudata.expression.Expression;
 import com.scudata.util.CursorUtil;
 
 /**
- * αjoinx࣬ǹ鲢
- * αһɷֶμļʵTjoin㡣csʱʹࡣ
+ * 游标joinx类，（不是归并）
+ * 游标与一个可分段集文件或实表T做join运算。cs数据量不大时使用这个类。
  * @author 
  * 
  */
 public class CSJoinxCursor2 extends ICursor {
-	private ICursor srcCursor;//Դα
-	private Object []fileTable;//ά
-	private Expression [][]fields;//ʵֶ
-	private Expression [][]keys;//άֶ
-	private Expression [][]exps;//µıʽ
+	private ICursor srcCursor;//源游标
+	private Object []fileTable;//维表
+	private Expression [][]fields;//事实表字段
+	private Expression [][]keys;//维表字段
+	private Expression [][]exps;//新的表达式
 	private String option;
 	private String fname;
 	private String[][] expNames;
 	
 	private Sequence cache;
 	private boolean isEnd;
-	private int n;//
+	private int n;//缓冲区条数
 	
 	public CSJoinxCursor2(ICursor cursor, Expression [][]fields, Object []fileTable, 
 			Expression[][] keys, Expression[][] exps, String[][] expNames, String fname, Context ctx, int n, String option) {
@@ -41,7 +41,7 @@ public class CSJoinxCursor2 extends ICursor {
 		if (this.n < ICursor.FETCHCOUNT) {
 			this.n = ICursor.FETCHCOUNT;
 		}
-		//newNamesnullnewExps
+		//如果newNames里有null，则用newExps替代
 		for (int i = 0, len = expNames.length; i < len; i++) {
 			String[] arr = this.expNames[i];
 			for (int j = 0, len2 = arr.length; j < len2; j++) {
@@ -52,8 +52,8 @@ public class CSJoinxCursor2 extends ICursor {
 		}
 	}
 
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			exps = Operation.dupExpressions(exps, ctx);
@@ -134,8 +134,8 @@ public class CSJoinxCursor2 extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		super.close();
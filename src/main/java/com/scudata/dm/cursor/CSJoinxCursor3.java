@@ -13,34 +13,34 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CursorUtil;
 
 /**
- * αjoinx࣬鲢joinx
- * αһɷֶμļʵT鲢join㡣
+ * 游标joinx类，归并joinx
+ * 游标与一个可分段集文件或实表T做归并join运算。
  * @author LiWei
  * 
  */
 public class CSJoinxCursor3 extends ICursor {
-	private ICursor srcCursor;//Դα
-	private Expression []keys;//άֶ
-	private Expression []exps;//µıʽ
+	private ICursor srcCursor;//源游标
+	private Expression []keys;//维表字段
+	private Expression []exps;//新的表达式
 	
-	private ICursor mergeCursor;//鲢α
+	private ICursor mergeCursor;//归并游标
 	private DataStruct ds = null;
-	private int len1;//ԭ¼ֶ
-	private int len2;//±ʽֶ
+	private int len1;//原记录字段数
+	private int len2;//新表达式字段数
 	
 	private boolean isEnd;
-	private int n;//
+	private int n;//缓冲区条数
 	private String[] expNames;
 	private String option;
 	
 	/**
-	 * 
-	 * @param cursor	Դα
-	 * @param fields	ʵjoinֶ
-	 * @param fileTable	ά
-	 * @param keys		άjoinֶ
-	 * @param exps		ά±ʽ
-	 * @param expNames	ά±ʽ
+	 * 构造器
+	 * @param cursor	源游标
+	 * @param fields	事实join表字段
+	 * @param fileTable	维表对象
+	 * @param keys		维表join字段
+	 * @param exps		维表新表达式
+	 * @param expNames	维表新表达式名称
 	 * @param fname
 	 * @param ctx
 	 * @param n
@@ -59,7 +59,7 @@ public class CSJoinxCursor3 extends ICursor {
 			this.n = ICursor.FETCHCOUNT;
 		}
 		
-		//newNamesnullnewExps
+		//如果newNames里有null，则用newExps替代
 		if (exps != null && expNames != null) {
 			for (int i = 0, len = expNames.length; i < len; i++) {
 				if (expNames[i] == null && exps[i] != null) {
@@ -68,12 +68,12 @@ public class CSJoinxCursor3 extends ICursor {
 			}
 		}
 
-		//鲢α
+		//归并两个游标
 		ICursor cursor2 = toCursor(fileTable);
 		ICursor cursors[] = {cursor, cursor2};
 		String names[] = {null, null};
 		if (keys == null) {
-			//ûйֶʱȡ
+			//没有关联字段时取主键
 			String[] pkeys = cursor2.getDataStruct().getPrimary();
 			int size = fields.length;
 			if (pkeys == null || pkeys.length < size) {
@@ -90,7 +90,7 @@ public class CSJoinxCursor3 extends ICursor {
 	}
 
 	void init() {
-		//֯ݽṹ
+		//组织数据结构
 		if (option !=null && (option.indexOf('i') != -1 || option.indexOf('d') != -1)) {
 			Sequence temp = mergeCursor.peek(1);
 			if (temp != null) {
@@ -114,7 +114,7 @@ public class CSJoinxCursor3 extends ICursor {
 	}
 	
 	/**
-	 * joinֶκ±ʽȡҪֶ
+	 * 从join字段和新表达式中提取需要的字段
 	 * @param dataExps
 	 * @param newExps
 	 * @param ctx
@@ -135,7 +135,7 @@ public class CSJoinxCursor3 extends ICursor {
 	}
 	
 	/**
-	 * άתα
+	 * 把维表对象转换成游标
 	 * @param obj
 	 * @return
 	 */
@@ -152,8 +152,8 @@ public class CSJoinxCursor3 extends ICursor {
 		}
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			exps = Operation.dupExpressions(exps, ctx);
@@ -233,8 +233,8 @@ public class CSJoinxCursor3 extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		super.close();
@@ -244,13 +244,13 @@ public class CSJoinxCursor3 extends ICursor {
 	}
 	
 	/**
-	 * 鲢joinݣ
-	 * @param cursor	Դα
-	 * @param fields	ʵjoinֶ
-	 * @param fileTable	ά
-	 * @param keys		άjoinֶ
-	 * @param exps		ά±ʽ
-	 * @param expNames	ά±ʽ
+	 * 归并join（多套数据）
+	 * @param cursor	源游标
+	 * @param fields	事实join表字段
+	 * @param fileTable	维表对象
+	 * @param keys		维表join字段
+	 * @param exps		维表新表达式
+	 * @param expNames	维表新表达式名称
 	 * @param fname
 	 * @param ctx
 	 * @param n
@@ -279,7 +279,7 @@ public class CSJoinxCursor3 extends ICursor {
 		int fileCount =  fileTable.length;
 		try {
 			/**
-			 * ԶݽjoinÿεĽдļһjoin
+			 * 对多套数据进行join，每次的结果写出到文件，（不处理最后一套join）
 			 */
 			for (int i = 0; i < fileCount - 1; i++) {
 				temp = new CSJoinxCursor3(cursor, fields[i], fileTable[i], keys[i], exps[i], 
@@ -316,7 +316,7 @@ public class CSJoinxCursor3 extends ICursor {
 	}
 	
 	/**
-	 * άתα
+	 * 把维表对象转换成游标
 	 * @param obj
 	 * @return
 	 */
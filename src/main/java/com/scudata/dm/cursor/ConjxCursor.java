@@ -4,17 +4,17 @@ import com.scudata.dm.Context;
 import com.scudata.dm.Sequence;
 
 /**
- * Ѷαһα꣬ȡʱαÿαֱ꣬һαȡ
- * ṹԵһαΪ׼
+ * 把多个游标纵向连成一个游标，取数时会依次遍历每个游标，直到最后一个游标取数结束
+ * 结构以第一个游标为准
  * @author 
  *
  */
 public class ConjxCursor extends ICursor {
-	private ICursor []cursors; // α
-	private int curIndex = 0; // ǰڶα
+	private ICursor []cursors; // 游标数组
+	private int curIndex = 0; // 当前正在读数的游标索引
 
 	/**
-	 * α
+	 * 构建纵向连接游标对象
 	 * @param cursors
 	 */
 	public ConjxCursor(ICursor []cursors) {
@@ -22,8 +22,8 @@ public class ConjxCursor extends ICursor {
 		setDataStruct(cursors[0].getDataStruct());
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			for (ICursor cursor : cursors) {
@@ -35,8 +35,8 @@ public class ConjxCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -64,9 +64,9 @@ public class ConjxCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (cursors.length == curIndex || n < 1) return 0;
@@ -83,7 +83,7 @@ public class ConjxCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -94,8 +94,8 @@ public class ConjxCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		curIndex = 0;
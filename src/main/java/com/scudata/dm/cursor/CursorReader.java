@@ -5,21 +5,21 @@ import com.scudata.thread.Job;
 import com.scudata.thread.ThreadPool;
 
 /**
- * ڶ̴߳αȡݵ񣬽ȡߺᱻ뵽̳߳Уȡ
+ * 用于多线程从游标读取数据的任务，结果被取走后此任务会被加入到线程池中，继续取数据
  * @author WangXiaoJun
  *
  */
 class CursorReader extends Job {
-	private ThreadPool threadPool; // ̳߳
-	private ICursor cursor; // Ҫȡα
-	private int fetchCount; // ÿζȡ
-	private Sequence table; // ȡ
+	private ThreadPool threadPool; // 线程池
+	private ICursor cursor; // 要取数的游标
+	private int fetchCount; // 每次读取的数据量
+	private Sequence table; // 读取的数据
 
 	/**
-	 * αȡʹgetTableõȡ
-	 * @param threadPool ̳߳
-	 * @param cursor α
-	 * @param fetchCount ÿζȡ
+	 * 创建从游标取数的任务，使用getTable得到取数结果
+	 * @param threadPool 线程池
+	 * @param cursor 游标
+	 * @param fetchCount 每次读取的数据量
 	 */
 	public CursorReader(ThreadPool threadPool, ICursor cursor, int fetchCount) {
 		this.threadPool = threadPool;
@@ -29,7 +29,7 @@ class CursorReader extends Job {
 	}
 	
 	/**
-	 * ȡݣ˷ύ̳߳ؼ
+	 * 读取数据，此方法会提交任务到线程池继续读数
 	 * @return
 	 */
 	public Sequence getTable() {
@@ -46,7 +46,7 @@ class CursorReader extends Job {
 	}
 
 	/**
-	 * ȡݣȡύ̳߳
+	 * 读取缓存的数据，结束读取，不再提交任务到线程池
 	 * @return
 	 */
 	public Sequence getCatch() {
@@ -61,7 +61,7 @@ class CursorReader extends Job {
 	}
 
 	/**
-	 * ̵̳߳߳ãαȡ
+	 * 被线程池里的线程调用，从游标读取数据
 	 */
 	public void run() {
 		table = cursor.fetch(fetchCount);
@@ -13,6 +13,7 @@ import com.scudata.common.DBConfig;
 import com.scudata.common.DBInfo;
 import com.scudata.common.DBSession;
 import com.scudata.common.DBTypes;
+import com.scudata.common.ISessionFactory;
 import com.scudata.common.Logger;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
@@ -25,19 +26,20 @@ import com.scudata.dm.DataStruct;
 import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
 import com.scudata.resources.DataSetMessage;
+import com.scudata.resources.EngineMessage;
 import com.scudata.util.DatabaseUtil;
 
 /**
- * ڴݿȡα
+ * 用于从数据库取数的游标
  * @author RunQian
  *
  */
 public class DBCursor extends ICursor {
-	private String sql; // SQL
-	private Object[] params; // 
-	private byte[] types; // 
+	private String sql; // SQL语句
+	private Object[] params; // 参数
+	private byte[] types; // 参数类型
 	
-	private DBObject db; // ݿӵĶ
+	private DBObject db; // 含有数据库连接的对象
 	private ResultSet rs = null;
 	private PreparedStatement pst = null;
 	private Connection con = null;
@@ -51,11 +53,11 @@ public class DBCursor extends ICursor {
 	private boolean bb = true;
 
 	private boolean isAccessBug = false;
-	private boolean isSingleField; // Ƿ񷵻صɵ
+	private boolean isSingleField; // 是否返回单列组成的序列
 
-	//private Table cursorTable; ICursor.dataStructʾ
+	//private Table cursorTable; 改用ICursor.dataStruct表示
 
-	private String opt;//Ӳѯݣѡ@d
+	private String opt;//增加查询数据，选项@d
 	public DBCursor(String sql, Object[] params, byte[] types, DBObject db, String opt, Context ctx) {
 		this.sql = sql;
 		this.params = params;
@@ -80,9 +82,177 @@ public class DBCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 把查询按分段条件拆成多个子查询，每个子查询使用单独的数据库连接并行取数，返回多路游标
+	 * 子查询为select * from (sql) T where 分段条件，分段条件的参数跟在原参数的后面
+	 * @param sql SQL语句
+	 * @param params 参数
+	 * @param types 参数类型
+	 * @param db 数据库对象
+	 * @param opt 选项
+	 * @param key 分段字段名，按字段的最小值和最大值拆成pathCount段；或者由条件串组成的序列，每个条件一段
+	 * @param pathCount 路数，分段字段为字段名时有效
+	 * @param ctx 计算上下文
+	 * @return ICursor 取不到数据源配置或者无法分段时返回普通的数据库游标
+	 */
+	public static ICursor createMultipathCursor(String sql, Object []params, byte []types, DBObject db, 
+			String opt, Object key, int pathCount, Context ctx) {
+		DBSession dbs = db.getDbSession();
+		DBInfo info = dbs.getInfo();
+		ISessionFactory factory = null;
+		if (info != null) {
+			try {
+				factory = info.createSessionFactory();
+			} catch (Exception e) {
+				Logger.debug(e.getMessage());
+			}
+		}
+		
+		if (factory == null) {
+			return new DBCursor(sql, params, types, db, opt, ctx);
+		}
+		
+		String []conditions;
+		Object [][]condParams;
+		if (key instanceof Sequence) {
+			Sequence seq = (Sequence)key;
+			int count = seq.length();
+			conditions = new String[count];
+			condParams = new Object[count][];
+			for (int i = 0; i < count; ++i) {
+				Object obj = seq.getMem(i + 1);
+				if (!(obj instanceof String)) {
+					MessageManager mm = EngineMessage.get();
+					throw new RQException("cursor" + mm.getMessage("function.paramTypeError"));
+				}
+				
+				conditions[i] = (String)obj;
+			}
+		} else if (key instanceof String) {
+			String field = (String)key;
+			Object range = db.query1("select min(" + field + "),max(" + field + ") from (" + sql + ") T", params, types, null);
+			Object []bounds = null;
+			if (range instanceof Sequence && ((Sequence)range).length() == 2) {
+				Sequence seq = (Sequence)range;
+				bounds = splitRange(seq.getMem(1), seq.getMem(2), pathCount);
+			}
+			
+			if (bounds == null) {
+				// 没有数据或者分段字段不能按值拆分
+				return new DBCursor(sql, params, types, db, opt, ctx);
+			}
+			
+			// 第一段包含空值，最后一段没有上限
+			int count = bounds.length + 1;
+			conditions = new String[count];
+			condParams = new Object[count][];
+			conditions[0] = field + "<? or " + field + " is null";
+			condParams[0] = new Object[] {bounds[0]};
+			for (int i = 1; i < count - 1; ++i) {
+				conditions[i] = field + ">=? and " + field + "<?";
+				condParams[i] = new Object[] {bounds[i - 1], bounds[i]};
+			}
+			
+			conditions[count - 1] = field + ">=?";
+			condParams[count - 1] = new Object[] {bounds[count - 2]};
+		} else {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException("cursor" + mm.getMessage("function.paramTypeError"));
+		}
+		
+		// 子游标关闭时关闭各自的连接
+		String subOpt = opt == null ? "x" : opt + "x";
+		String dbOpt = db.isLower() ? "l" : null;
+		
+		int count = conditions.length;
+		int paramCount = params == null ? 0 : params.length;
+		ICursor []cursors = new ICursor[count];
+		try {
+			for (int i = 0; i < count; ++i) {
+				String subSql = "select * from (" + sql + ") T where (" + conditions[i] + ")";
+				Object []subParams = params;
+				byte []subTypes = types;
+				Object []vals = condParams[i];
+				if (vals != null) {
+					subParams = new Object[paramCount + vals.length];
+					subTypes = new byte[paramCount + vals.length];
+					if (paramCount > 0) {
+						System.arraycopy(params, 0, subParams, 0, paramCount);
+						if (types != null) {
+							System.arraycopy(types, 0, subTypes, 0, paramCount);
+						}
+					}
+					
+					System.arraycopy(vals, 0, subParams, paramCount, vals.length);
+				}
+				
+				DBObject subDB = new DBObject(factory, dbOpt, ctx);
+				DBCursor cursor = new DBCursor(subSql, subParams, subTypes, subDB, subOpt, ctx);
+				cursors[i] = new PrefetchCursor(cursor, FETCHCOUNT_M, ctx);
+			}
+		} catch (Exception e) {
+			for (ICursor cursor : cursors) {
+				if (cursor != null) {
+					cursor.close();
+				}
+			}
+			
+			if (e instanceof RQException) {
+				throw (RQException)e;
+			} else {
+				throw new RQException(e.getMessage(), e);
+			}
+		}
+		
+		return new MultipathCursors(cursors, ctx);
+	}
+	
+	// 把[min,max]按值平均拆成n段，返回n-1个分界值，不能拆分时返回null
+	private static Object[] splitRange(Object min, Object max, int n) {
+		if (min == null || max == null || n < 2) {
+			return null;
+		}
+		
+		Object []bounds = new Object[n - 1];
+		if ((min instanceof Integer || min instanceof Long || min instanceof Short || min instanceof Byte) &&
+				(max instanceof Integer || max instanceof Long || max instanceof Short || max instanceof Byte)) {
+			long v1 = ((Number)min).longValue();
+			long v2 = ((Number)max).longValue();
+			double step = ((double)v2 - v1) / n;
+			for (int i = 1; i < n; ++i) {
+				bounds[i - 1] = Long.valueOf(v1 + (long)(step * i));
+			}
+		} else if (min instanceof Number && max instanceof Number) {
+			double v1 = ((Number)min).doubleValue();
+			double v2 = ((Number)max).doubleValue();
+			double step = (v2 - v1) / n;
+			for (int i = 1; i < n; ++i) {
+				bounds[i - 1] = Double.valueOf(v1 + step * i);
+			}
+		} else if (min instanceof java.util.Date && max instanceof java.util.Date) {
+			long v1 = ((java.util.Date)min).getTime();
+			long v2 = ((java.util.Date)max).getTime();
+			double step = ((double)v2 - v1) / n;
+			for (int i = 1; i < n; ++i) {
+				long time = v1 + (long)(step * i);
+				if (min instanceof java.sql.Date) {
+					bounds[i - 1] = new java.sql.Date(time);
+				} else if (min instanceof java.sql.Time) {
+					bounds[i - 1] = new java.sql.Time(time);
+				} else {
+					bounds[i - 1] = new java.sql.Timestamp(time);
+				}
+			}
+		} else {
+			return null;
+		}
+		
+		return bounds;
+	}
+
+	/**
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (rs == null || n == 0)
@@ -105,7 +275,7 @@ public class DBCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -141,8 +311,8 @@ public class DBCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָļ¼
-	 * @param n 
+	 * 读取指定条数的记录返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -180,15 +350,15 @@ public class DBCursor extends ICursor {
 	}
 
 	/**
-	 * ָݿִsql䣬ؽɵ
+	 * 对指定的数据库连接执行sql语句，返回结果构成的序列
 	 * 
 	 * @param sql
-	 *            String sql
+	 *            String sql语句
 	 * @param params
-	 *            Object[] ֵб
+	 *            Object[] 参数值列表
 	 * @param types
-	 *            byte[] бɿգͲμcom.scudata.common.Typesַ
-	 *            ͿʱΪͬڡĬϡͣʱעֵΪnull
+	 *            byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组如字符串组等类型
+	 *            当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
 	 * @param dbs
 	 *            DBSession
 	 */
@@ -302,18 +472,18 @@ public class DBCursor extends ICursor {
 
 			try {
 				// pst = con.prepareStatement(sql);
-				// edited by bdl, 2010.7.28, sqlserver̫
-				// optzѡzʾַ֧򣬷֧
+				// edited by bdl, 2010.7.28, 处理sqlserver中数据太多的情况
+				// 另外在opt中添加z选项，如果出现z表示支持反向，否则不支持
 				int rsType = ResultSet.TYPE_FORWARD_ONLY;
 				if (opt != null && opt.indexOf("z") > -1)
 					rsType = ResultSet.TYPE_SCROLL_INSENSITIVE;
-				// added by bdl, 2010.11.22, accessݿ⣬rsType趨Ϊinsensitive
+				// added by bdl, 2010.11.22, 对于access数据库，把rsType设定为insensitive
 				// else if
 				// (con.getClass().getName().equals("sun.jdbc.odbc.JdbcOdbcConnection"))
 				// {
 				// rsType = ResultSet.TYPE_SCROLL_INSENSITIVE;
 				// }
-				// eidtd by bdl, 2010.12.7, forwordonly͵ָ룬жislast
+				// eidtd by bdl, 2010.12.7, 对于forwordonly类型的指针，均不判断islast
 				if (rsType == ResultSet.TYPE_FORWARD_ONLY) // && dbType ==
 															// DBTypes.ACCESS )
 					this.isAccessBug = true;
@@ -328,8 +498,8 @@ public class DBCursor extends ICursor {
 						fld = clss.getField("TYPE_SS_SCROLL_KEYSET");
 					rsType = fld.getInt(null);
 				}
-				//added by bd, 2016.9.28, POSTGRESQLʱautocommitΪfalse
-				//ԷֹJDBCȫ
+				//added by bd, 2016.9.28, 当遇到POSTGRESQL时，将autocommit设为false
+				//以防止这个JDBC将结果集全部返回
 				DBInfo info = dbs.getInfo();
 				if (info != null && info.getDBType() == DBTypes.POSTGRES) {
 					Logger.info("Setting POSTGRESQL...");
@@ -345,22 +515,22 @@ public class DBCursor extends ICursor {
 							ResultSet.TYPE_FORWARD_ONLY);
 					pst.setFetchSize(1000);
 				}
-				//edited by bd, 2016.12.15, sqlserverҲfetchsizeԷ䷵н
+				//edited by bd, 2016.12.15, 对于sqlserver，也设置fetchsize，以防其返回所有结果
 				else if (info != null && info.getDBType() == DBTypes.SQLSVR) {
 					con.setAutoCommit(false);
 					pst = con.prepareStatement(sql, rsType,
 							ResultSet.CONCUR_READ_ONLY);
-					//edited by bd, 2016.12.19, ֲֹ֧֡
+					//edited by bd, 2016.12.19, 防止出现“不支持并发”错误
 							//ResultSet.TYPE_FORWARD_ONLY);
 					pst.setFetchSize(1000);
 				}
-				//edited by bd, 2017.9.7, MysqlִдݲѯʱURLӦд
+				//edited by bd, 2017.9.7, Mysql执行大数据查询时，URL应该这样写：
 				// jdbc:mysql://127.0.0.1:3306/mysql?useCursorFetch=true
-				// עеuseCursorFetch=trueʹʽ
+				// 注意其中的useCursorFetch=true，可以使用流式检索
 				else if (info != null && info.getDBType() == DBTypes.MYSQL) {
 					con.setAutoCommit(false);
-					//added by bd, 2019.1.9, mysqlݿУʹαʱ͵Īض
-					//ר⴦
+					//added by bd, 2019.1.9, mysql数据库中，使用游标时，整数类型的数据莫名其妙地读不出来
+					//专门针对这个特殊处理
 //					if (dbType == DBTypes.MYSQL) {
 						pst = con.prepareStatement(sql);						
 //					}
@@ -369,7 +539,7 @@ public class DBCursor extends ICursor {
 //								ResultSet.TYPE_FORWARD_ONLY);
 //					}
 					pst.setFetchSize(1000);
-					//趨fetchSizeInteger.MIN_VALUE,row by row
+					//在这里设定fetchSize，而不是用Integer.MIN_VALUE,这种是row by row的
 				}
 				else {
 					pst = con.prepareStatement(sql, rsType,
@@ -379,9 +549,9 @@ public class DBCursor extends ICursor {
 				// for mysql, the statement will return all the records default,
 				// which will cause the oom error when deal with big data.
 				// comment added by bd, 2016.10.21:
-				// MysqlִдݲѯʱURLӦд
+				// Mysql执行大数据查询时，URL应该这样写：
 				// jdbc:mysql://127.0.0.1:3306/mysql?useCursorFetch=true
-				// עеuseCursorFetch=trueʹòѯ
+				// 注意其中的useCursorFetch=true，可以使得查询正常
 				//if (con.getClass().getName().indexOf("com.mysql")>=0) {
 					//pst.setFetchSize(Integer.MIN_VALUE);
 					// pst.setFetchDirection(ResultSet.FETCH_REVERSE);
@@ -442,7 +612,7 @@ public class DBCursor extends ICursor {
 				throw new RQException(mm.getMessage("error.sqlException", name,
 						sql));
 			}
-			// edited by bdl, 2010.4.29, @tؿ
+			// edited by bdl, 2010.4.29, 如果有@t操作，返回库序表
 			DataStruct ds = crtateDataStruct(rs, db.isLower());
 			if (opt != null && opt.indexOf("t") > -1) {
 				String[] fields = null;
@@ -452,7 +622,7 @@ public class DBCursor extends ICursor {
 					fields = new String[colCount];
 					String[][] tableCols = new String[colCount][];
 					for (int c = 1; c <= colCount; ++c) {
-						//edited by bd, 2016.8.29, ӦNameLable費ȥ
+						//edited by bd, 2016.8.29, 不应该用Name，而是Lable，否则别名设不进去
 						//fields[c - 1] = rsmd.getColumnName(c);
 						//String[] tCol = { rsmd.getColumnName(c) };
 						fields[c - 1] = rsmd.getColumnLabel(c);
@@ -487,8 +657,8 @@ public class DBCursor extends ICursor {
 						// null);
 					}
 				}
-				// added by bdl, 2010.8.16, tѡʱ趨Ϣͬʱ
-				// Զ趨Աµ
+				// added by bdl, 2010.8.16, 遇到t选项时，设定表信息的同时，
+				// 自动设定主键，以备更新调用
 				if (opt != null && opt.indexOf("u") > -1) {
 					DatabaseMetaData dmd = con.getMetaData();
 					rs = dmd.getPrimaryKeys(con.getCatalog(), null, tableName);
@@ -527,10 +697,10 @@ public class DBCursor extends ICursor {
 	}
 
 	/**
-	 * ȡݼrsÿһɼ¼Table
+	 * 取出结果数据集rs的每一行数据生成记录，构成Table返回
 	 * 
 	 * @param rs
-	 *            ResultSet ݼ
+	 *            ResultSet 结果数据集
 	 * @return DataStruct
 	 */
 	private DataStruct crtateDataStruct(ResultSet rs, boolean lowercase) 
@@ -545,9 +715,9 @@ public class DBCursor extends ICursor {
 		String[] colNames = new String[colCount];
 
 		for (int c = 1; c <= colCount; ++c) {
-			//edited by bd, 2016.8.29, ӦNameLable費ȥ
+			//edited by bd, 2016.8.29, 不应该用Name，而是Lable，否则别名设不进去
 			//colNames[c - 1] = rsmd.getColumnName(c);
-			//edited by bd, 2019.7.19, α֧connect@lֶΪСд
+			//edited by bd, 2019.7.19, 添加了游标支持connect@l，允许返回字段名为小写
 			if (lowercase) {
 				colNames[c - 1] = rsmd.getColumnLabel(c).toLowerCase();
 			}
@@ -583,7 +753,7 @@ public class DBCursor extends ICursor {
 			}
 			try {
 				Object obj = DatabaseUtil.tranData(type, dbType, rs, n,
-						tranContent, dbCharset, toCharset, bb,opt);//optѡʵ@d  xq 2015.4.22
+						tranContent, dbCharset, toCharset, bb,opt);//调用增加opt选项，实现@d  xq 2015.4.22
 				record.set(n - 1, obj);
 			} catch (Exception e) {
 				e.printStackTrace();
@@ -596,8 +766,8 @@ public class DBCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
@@ -4,25 +4,25 @@ import com.scudata.cellset.datamodel.PgmCellSet;
 import com.scudata.dm.*;
 
 /**
- * ִ񣬷񷵻ֵα
+ * 用于执行网格，返回网格返回值的游标
  * @author RunQian
  *
  */
 public class DFXCursor extends ICursor {
-	private PgmCellSet pcs;	// 
+	private PgmCellSet pcs;	// 网格对象
 	
-	// ķֵαҲУжֵҪһִ
+	// 网格的返回值可能是游标也可能是序列，网格可能有多个返回值，需要一步步执行
 	private ICursor cursor;
 	private Sequence data;
 	
-	// Ƿжȡ񻺴棬Ҫ񻹸
+	// 是否从网格管理器中读取的网格缓存，如果是则用完网格需要把网格还给网格管理器
 	private boolean useCache; 
-	private boolean isCalc; // Ƿִ
+	private boolean isCalc; // 网格是否已执行
 
 	/**
-	 * α
-	 * @param pcs 
-	 * @param ctx  
+	 * 创建网格游标
+	 * @param pcs 网格对象
+	 * @param ctx  计算上下文
 	 * @param useCache
 	 */
 	public DFXCursor(PgmCellSet pcs, Context ctx, boolean useCache) {
@@ -38,8 +38,8 @@ public class DFXCursor extends ICursor {
 	}
 	
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -133,9 +133,9 @@ public class DFXCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (pcs == null || n < 1) return 0;
@@ -203,7 +203,7 @@ public class DFXCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
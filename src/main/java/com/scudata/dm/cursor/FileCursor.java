@@ -3,6 +3,7 @@ package com.scudata.dm.cursor;
 import java.io.IOException;
 import java.io.InputStream;
 
+import com.scudata.array.IArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.BaseRecord;
@@ -17,46 +18,48 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ļα꣬ڶȡıļ
+ * 文件游标，用于读取文本文件
  * @author WangXiaoJun
  *
  */
 public class FileCursor extends ICursor {
-	private FileObject fileObject; // ļ
-	private LineImporter importer; // ı࣬ڰıжֶ
-	private DataStruct ds; // ļӦݽṹ
+	private static final int BATCH_SIZE = 4096; // 按列读入时每批的行数
 	
-	private long start; // ȡʼλãҪͷȥβڲжļ
-	private long end = -1; // ȡĽλãҪͷȥβڲжļ
-
-	private String []selFields; // ѡֶ
-	private byte []types; // ֶ
-	private String []fmts; // ֵֶʽʱ
-	private int []selIndex; // ѡֶԴṹе
-	private DataStruct selDs; // ݽṹ
-	private String opt; // ѡ
+	private FileObject fileObject; // 文件对象
+	private LineImporter importer; // 文本分析类，用于把文本按行读成字段数组
+	private DataStruct ds; // 文件对应的数据结构
 	
-	private byte [] colSeparator; // зָ
-	private boolean isTitle; // ļǷб⣬нΪṹ
-	private boolean isDeleteFile; // Ƿɾļ
-	private boolean isSingleField; // Ƿ񷵻صɵ
-	private boolean isSequenceMember; // Ƿ񷵻ɵ
-	private int sigleFieldIndex; // ʱֶ
-	private boolean isExist = true; // ֶǷļ
+	private long start; // 读取的起始位置，要做掐头去尾处理，用于并行读文件
+	private long end = -1; // 读取的结束位置，要做掐头去尾处理，用于并行读文件
+
+	private String []selFields; // 选出字段名数组
+	private byte []types; // 字段类型
+	private String []fmts; // 字段值格式，用于日期时间
+	private int []selIndex; // 选出字段在源结构中的序号
+	private DataStruct selDs; // 结果集数据结构
+	private String opt; // 选项
+	
+	private byte [] colSeparator; // 列分割符
+	private boolean isTitle; // 文件是否有标题，如果有将作为结构名
+	private boolean isDeleteFile; // 读完后是否删除文件
+	private boolean isSingleField; // 是否返回单列组成的序列
+	private boolean isSequenceMember; // 是否返回序列组成的序列
+	private int sigleFieldIndex; // 单列时的字段索引
+	private boolean isExist = true; // 字段是否都在文件中
 	private boolean isEnd = false;
 	
-	private boolean optimize = true; // ideҪãparseʱǷжܲתһ¼
+	private boolean optimize = true; // ide需要用，parse时是否先判断能不能转成上一条记录的类型
 	
 	/**
-	 * һıļα
-	 * @param fileObject ıļ
-	 * @param segSeq κţ1ʼ
-	 * @param segCount ֶ
-	 * @param s зָ
-	 * @param opt ѡ  tһΪ⣬bļcдɶŷָcsvļ
-	 * 	sֶΣɵֶδɵiֻ1ʱس
-	 * 	qֶδȰ룬ⲿ֣k˵Ŀհ׷ȱʡԶtrim
-	 * 	eFiļвʱnullȱʡ
+	 * 产生一个文本文件的游标
+	 * @param fileObject 文本文件
+	 * @param segSeq 段号，从1开始计数
+	 * @param segCount 分段数
+	 * @param s 列分隔符
+	 * @param opt 选项  t：第一行为标题，b：二进制文件，c：写成逗号分隔的csv文件
+	 * 	s：不拆分字段，读成单字段串构成的序表，i：结果集只有1列时返回成序列
+	 * 	q：如果字段串外有引号则先剥离，包括标题部分，k：保留数据项两端的空白符，缺省将自动做trim
+	 * 	e：Fi在文件中不存在时将生成null，缺省将报错
 	 * @param ctx
 	 */
 	public FileCursor(FileObject fileObject, int segSeq, int segCount, 
@@ -65,17 +68,17 @@ public class FileCursor extends ICursor {
 	}
 
 	/**
-	 * һıļα
-	 * @param fileObject ıļ
-	 * @param segSeq κţ1ʼ
-	 * @param segCount ֶ
-	 * @param fields ѡֶ
-	 * @param types ѡֶ飨ɿգcom.scudata.common.Types
-	 * @param s зָ
-	 * @param opt ѡ  tһΪ⣬bļcдɶŷָcsvļ
-	 * 	sֶΣɵֶδɵiֻ1ʱس
-	 * 	qֶδȰ룬ⲿ֣k˵Ŀհ׷ȱʡԶtrim
-	 * 	eFiļвʱnullȱʡ
+	 * 产生一个文本文件的游标
+	 * @param fileObject 文本文件
+	 * @param segSeq 段号，从1开始计数
+	 * @param segCount 分段数
+	 * @param fields 选出字段名数组
+	 * @param types 选出字段类型数组（可空），参照com.scudata.common.Types
+	 * @param s 列分隔符
+	 * @param opt 选项  t：第一行为标题，b：二进制文件，c：写成逗号分隔的csv文件
+	 * 	s：不拆分字段，读成单字段串构成的序表，i：结果集只有1列时返回成序列
+	 * 	q：如果字段串外有引号则先剥离，包括标题部分，k：保留数据项两端的空白符，缺省将自动做trim
+	 * 	e：Fi在文件中不存在时将生成null，缺省将报错
 	 * @param ctx
 	 */
 	public FileCursor(FileObject fileObject, int segSeq, int segCount, 
@@ -137,24 +140,24 @@ public class FileCursor extends ICursor {
 	}
 
 	/**
-	 * öļʼλ
-	 * @param startPos ʼλãͷȥβ
+	 * 设置读文件的起始位置
+	 * @param startPos 起始位置，会做掐头去尾处理
 	 */
 	public void setStart(long start) {
 		this.start = start;
 	}
 	
 	/**
-	 * öļĽλ
-	 * @param endPos λãͷȥβ
+	 * 设置读文件的结束位置
+	 * @param endPos 结束位置，会做掐头去尾处理
 	 */
 	public void setEnd(long end) {
 		this.end = end;
 	}
 	
 	/**
-	 * ʱֶεĸʽ
-	 * @param fmts ʱʽ
+	 * 设置日期时间字段的格式
+	 * @param fmts 日期时间格式数组
 	 */
 	public void setFormats(String []fmts) {
 		this.fmts = fmts;
@@ -174,7 +177,7 @@ public class FileCursor extends ICursor {
 		InputStream in = null;
 		String []selFields = null;
 		if (this.selFields != null) {
-			// ֶֹûֶʱ#1ȡresetȡҲֶ
+			// 复制字段名，防止没有字段名时用#1取数，调用reset后再取数导致找不到字段
 			selFields = new String[this.selFields.length];
 			System.arraycopy(this.selFields, 0, selFields, 0, selFields.length);
 		}
@@ -185,7 +188,7 @@ public class FileCursor extends ICursor {
 			importer = new LineImporter(in, charset, colSeparator, opt);
 			
 			if (isTitle) {
-				// һǱ
+				// 第一行是标题
 				Object []line = importer.readFirstLine();
 				if (line == null) {
 					return null;
@@ -348,7 +351,7 @@ public class FileCursor extends ICursor {
 
 			return importer;
 		} catch (Exception e) {
-			// importerпܳ쳣
+			// importer产生过程中可能出异常
 			if (in != null && importer == null) {
 				try {
 					in.close();
@@ -366,7 +369,7 @@ public class FileCursor extends ICursor {
 		}
 	}
 
-	// ȡֶ
+	// 取所有字段
 	private Sequence fetchAll(LineImporter importer, int n) throws IOException {
 		Object []line;
 		long end = this.end;
@@ -395,7 +398,7 @@ public class FileCursor extends ICursor {
 		
 		int fcount;
 		if (ds == null) {
-			// ״ζûб
+			// 首次读且没有标题
 			line = importer.readFirstLine();
 			if (line == null) {
 				return null;
@@ -452,6 +455,11 @@ public class FileCursor extends ICursor {
 				r.setNormalFieldValue(f, line[f]);
 			}
 
+			if (importer.canReadColumns()) {
+				readColumns(importer, table, n - 1, null);
+				return table;
+			}
+			
 			for (int i = 1; i < n; ++i) {
 				if (end != -1 && importer.getCurrentPosition() > end) {
 					break;
@@ -474,7 +482,7 @@ public class FileCursor extends ICursor {
 		}
 	}
 
-	// ѡֶʱȡ
+	// 有选出字段时的取数
 	private Sequence fetchFields(LineImporter importer, int n) throws IOException {
 		Object []line;
 		long end = this.end;
@@ -510,21 +518,24 @@ public class FileCursor extends ICursor {
 			int curLen;
 			BaseRecord r;
 			Table table = new Table(selDs, initSize);
-			
-			for (int i = 0; i < n; ++i) {
-				if (end != -1 && importer.getCurrentPosition() > end) {
-					break;
-				}
+			if (importer.canReadColumns()) {
+				readColumns(importer, table, n, selIndex);
+			} else {
+				for (int i = 0; i < n; ++i) {
+					if (end != -1 && importer.getCurrentPosition() > end) {
+						break;
+					}
 
-				line = importer.readLine();
-				if (line == null) {
-					break;
-				}
+					line = importer.readLine();
+					if (line == null) {
+						break;
+					}
 
-				r = table.newLast();
-				curLen = line.length;
-				for (int f = 0; f < curLen; ++f) {
-					if (selIndex[f] != -1) r.setNormalFieldValue(selIndex[f], line[f]);
+					r = table.newLast();
+					curLen = line.length;
+					for (int f = 0; f < curLen; ++f) {
+						if (selIndex[f] != -1) r.setNormalFieldValue(selIndex[f], line[f]);
+					}
 				}
 			}
 
@@ -536,9 +547,41 @@ public class FileCursor extends ICursor {
 		}
 	}
 
+	// 按列批量读入指定行数，再生成记录追加到序表中，fieldIndex为列对应的字段序号，空表示跟列序号相同
+	private void readColumns(LineImporter importer, Table table, int n, int []fieldIndex) throws IOException {
+		long end = this.end;
+		while (n > 0) {
+			int count = n > BATCH_SIZE ? BATCH_SIZE : n;
+			IArray []columns = importer.newColumns(count);
+			int readCount = importer.readLines(columns, count, end);
+			int colCount = columns.length;
+			
+			BaseRecord []records = new BaseRecord[readCount + 1];
+			for (int i = 1; i <= readCount; ++i) {
+				records[i] = table.newLast();
+			}
+			
+			for (int c = 0; c < colCount; ++c) {
+				IArray column = columns[c];
+				if (column != null) {
+					int f = fieldIndex == null ? c : fieldIndex[c];
+					for (int i = 1; i <= readCount; ++i) {
+						records[i].setNormalFieldValue(f, column.get(i));
+					}
+				}
+			}
+			
+			if (readCount < count) {
+				break;
+			}
+			
+			n -= readCount;
+		}
+	}
+
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -559,9 +602,9 @@ public class FileCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (n < 1) return 0;
@@ -589,7 +632,7 @@ public class FileCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -619,8 +662,8 @@ public class FileCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
@@ -634,8 +677,8 @@ public class FileCursor extends ICursor {
 	}
 	
 	/**
-	 * ǷֶparseŻŻʱȰһ¼ֶת
-	 * @param optimize trueŻfalseŻ
+	 * 是否对字段parse做优化，优化时会先按上一条记录的字段类型转
+	 * @param optimize true：优化，false：不优化
 	 */
 	public void setOptimize(boolean optimize) {
 		this.optimize = optimize;
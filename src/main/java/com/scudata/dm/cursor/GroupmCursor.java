@@ -13,30 +13,30 @@ import com.scudata.expression.Node;
 import com.scudata.util.Variant;
 
 /**
- * α꣬αѰֶ򣬷ʱֻڵļ¼ȽϷֶǷͬ
- * ʵ麯cs.groupx()Ķη飬ʱֶдʱļ
- * ٶʱļֶι鲢γα
+ * 有序分组游标，游标的数据已按分组字段有序，分组时只需和相邻的记录比较分组字段是否相同
+ * 用于排序法实现外存分组函数cs.groupx()的二次分组，外存分组会把临时分组结果按分组字段排序写出到临时文件，
+ * 再对临时文件按分组字段归并形成有序游标
  * @author RunQian
  *
  */
 public class GroupmCursor extends ICursor {
-	private ICursor cursor; // ݰֶα
-	private Expression []exps; // ʽ
-	private Expression []newExps; // ܱʽ
-	private Node []gathers; // ܱʽӦĻܺ
-	private DataStruct newDs; // ݽṹ
+	private ICursor cursor; // 数据按分组字段有序的游标
+	private Expression []exps; // 分组表达式
+	private Expression []newExps; // 汇总表达式
+	private Node []gathers; // 汇总表达式对应的汇总函数
+	private DataStruct newDs; // 结果集数据结构
 
-	private Sequence data; // αȡ
-	private int currentIndex; // ǰҪݵ
+	private Sequence data; // 从游标里取出的数据
+	private int currentIndex; // 当前要计算的数据的序号
 
 	/**
-	 * α
-	 * @param cursor ݰֶα
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param newExps ܱʽ
-	 * @param newNames ֶ
-	 * @param ctx 
+	 * 创建有序分组游标
+	 * @param cursor 数据按分组字段有序的游标
+	 * @param exps 分组表达式数组
+	 * @param names 分组字段名数组
+	 * @param newExps 汇总表达式数组
+	 * @param newNames 汇总字段名数组
+	 * @param ctx 计算上下文
 	 */
 	public GroupmCursor(ICursor cursor, Expression[] exps, String []names,
 					   Expression[] newExps, String []newNames, Context ctx) {
@@ -48,7 +48,7 @@ public class GroupmCursor extends ICursor {
 		int count = exps.length;
 		int newCount = newExps == null ? 0 : newExps.length;
 
-		// ʡ˽ֶݱʽԶ
+		// 如果省略了结果集字段名根据表达式自动生成
 		if (names == null) {
 			names = new String[count];
 		}
@@ -79,8 +79,8 @@ public class GroupmCursor extends ICursor {
 		setDataStruct(newDs);
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			cursor.resetContext(ctx);
@@ -106,8 +106,8 @@ public class GroupmCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -200,9 +200,9 @@ public class GroupmCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (cursor == null || n < 1) return 0;
@@ -266,7 +266,7 @@ public class GroupmCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -5,33 +5,33 @@ import com.scudata.dm.Sequence;
 import com.scudata.expression.Expression;
 
 /**
- * α꣬αݽ飬Ȼα귽ʽ
- * ڹϣʵ麯cs.groupx()Ķη飬ѷֶιϣֵͬдͬһʱļ
- * Ȼÿʱļһα꣬Ҫȡαʱж
+ * 外存分组游标，对游标数据进行外存分组，然后以游标方式返回
+ * 用于哈希法实现外存分组函数cs.groupx()的二次分组，外存分组会把分组字段哈希值相同的组写到同一个临时文件，
+ * 然后每个临时文件生成一个此游标，要取此游标数据时则会进行二次外存分组
  * @author RunQian
  *
  */
 public class GroupxCursor extends ICursor {
-	private ICursor src; // α
-	private Expression[] exps; // ʽ
-	private String []names; // ֶ
-	private Expression[] calcExps; // ܱʽ
-	private String []calcNames; // ֶ
-	private String opt; // ѡ
-	private int capacity; // ڴб
+	private ICursor src; // 游标
+	private Expression[] exps; // 分组表达式
+	private String []names; // 分组字段名
+	private Expression[] calcExps; // 汇总表达式
+	private String []calcNames; // 汇总字段名
+	private String opt; // 选项
+	private int capacity; // 内存中保存的最大分组结果数
 	
-	private ICursor result; // α
+	private ICursor result; // 结果集游标
 
 	/**
-	 * α
-	 * @param cursor Դα
-	 * @param exps ʽ
-	 * @param names	ֶ
-	 * @param calcExps ܱʽ	
-	 * @param calcNames	ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @param capacity	ڴб
+	 * 生成外存分组游标
+	 * @param cursor 源数据游标
+	 * @param exps 分组表达式数组
+	 * @param names	分组字段名数组
+	 * @param calcExps 汇总表达式	数组
+	 * @param calcNames	汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @param capacity	内存中保存的最大分组结果数
 	 */
 	public GroupxCursor(ICursor cursor, Expression[] exps, String []names, 
 			Expression[] calcExps, String []calcNames, String opt, Context ctx, int capacity) {
@@ -45,8 +45,8 @@ public class GroupxCursor extends ICursor {
 		this.capacity = capacity;
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			src.resetContext(ctx);
@@ -55,8 +55,8 @@ public class GroupxCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -72,9 +72,9 @@ public class GroupxCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (result == null) {
@@ -89,7 +89,7 @@ public class GroupxCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -9,29 +9,29 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.Node;
 
 /**
- * cs.groupx@n()cs.groupx@g()Ķη
- * groupx@n@gѡʱͬһмݻŵͬһʱļֻÿʱļ¶ηܵõյķ
+ * 用于外存分组cs.groupx@n()和cs.groupx@g()的二次分组
+ * groupx有@n和@g选项时，同一组的中间数据会存放到同一个临时文件，所以只需对每个临时文件单独做下二次分组就能得到最终的分组结果
  * @author RunQian
  *
  */
 public class GroupxnCursor extends ICursor {
-	private FileObject []files; // ״ηʱļ
-	private int fileIndex = -1; // ǰҪʱļ
-	private Expression[] exps; // ʽ
-	private String[] names; // ֶ
-	private Expression[] calcExps; // ܱʽ
-	private String[] calcNames; // ֶ
+	private FileObject []files; // 首次分组产生的临时集文件
+	private int fileIndex = -1; // 当前要读的临时文件索引
+	private Expression[] exps; // 分组表达式数组
+	private String[] names; // 分组字段名数组
+	private Expression[] calcExps; // 汇总表达式数组
+	private String[] calcNames; // 汇总字段名数组
 	
-	private MemoryCursor cursor; // ڴα꣬ڱ浱ǰʱļĶη
+	private MemoryCursor cursor; // 内存游标，用于保存当前临时文件的二次分组结果
 	
 	/**
-	 * Ķλα
-	 * @param files ״ηʱļ
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param calcExps ܱʽ
-	 * @param calcNames ֶ
-	 * @param ctx 
+	 * 构建外存分组的二次汇总游标
+	 * @param files 首次分组产生的临时集文件数组
+	 * @param exps 分组表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param ctx 计算上下文
 	 */
 	public GroupxnCursor(FileObject []files, Expression[] exps, String[] names, 
 			Expression[] calcExps, String[] calcNames, Context ctx) {
@@ -52,7 +52,7 @@ public class GroupxnCursor extends ICursor {
 		ds.setPrimary(names);
 		setDataStruct(ds);
 		
-		// ȡξۺҪõıʽ
+		// 取二次聚合需要用的表达式
 		Node[] gathers = Sequence.prepareGatherMethods(calcExps, ctx);
 		Expression []keyExps = new Expression[keyCount];
 		for (int i = 0, q = 1; i < keyCount; ++i, ++q) {
@@ -68,15 +68,15 @@ public class GroupxnCursor extends ICursor {
 		this.calcExps = valExps;
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		this.ctx = ctx;
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -123,9 +123,9 @@ public class GroupxnCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (files == null || n < 1) return 0;
@@ -157,7 +157,7 @@ public class GroupxnCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
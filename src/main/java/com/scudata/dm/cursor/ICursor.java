@@ -30,28 +30,28 @@ import com.scudata.util.CursorUtil;
 import com.scudata.util.Variant;
 
 /**
- * α࣬ҪʵgetskipOver
+ * 游标基类，子类需要实现get、skipOver方法
  * @author WangXiaoJun
  *
  */
 abstract public class ICursor extends Operable implements IResource {
-	public static final int MAXSIZE = Integer.MAX_VALUE - 1; // fetchڴֵʾȡ
-	public static final long MAXSKIPSIZE = Long.MAX_VALUE; // skipĲڴֵʾ
+	public static final int MAXSIZE = Integer.MAX_VALUE - 1; // 如果fetch参数等于此值表示取所有
+	public static final long MAXSKIPSIZE = Long.MAX_VALUE; // 如果skip的参数等于此值表示跳过所有
 	
-	public static int INITSIZE = 99999; // ȡʱлĳʼС
-	public static int FETCHCOUNT = 9999; // ÿδαȡݵ
-	public static final int FETCHCOUNT_M = 999; // ·α겢мʱÿһ·ȡݵ
+	public static int INITSIZE = 99999; // 取所有数据时创建的序列或序表的初始大小
+	public static int FETCHCOUNT = 9999; // 运算程序每次从游标读取数据的数量
+	public static final int FETCHCOUNT_M = 999; // 多路游标并行计算时每一路读取数据的数量
 
-	protected Sequence cache; // иӲߵpeek˳ԱŽҪȡĲ
-	protected ArrayList<Operation> opList; // Ӳб
-	protected Context ctx; // ö߳αȡʱҪĲ½ʽ
+	protected Sequence cache; // 有附加操作或者调用了peek，则此成员存放接下来要被读取的部分数据
+	protected ArrayList<Operation> opList; // 附加操作列表
+	protected Context ctx; // 用多线程游标取数时需要更改上下文并重新解析表达式
 	
-	protected DataStruct dataStruct; // ݽṹ
-	private boolean isDecrease = false; // ӵǷʹݱ٣select
-	private boolean isFinished = false; // Ƿfinish
+	protected DataStruct dataStruct; // 结果集数据结构
+	private boolean isDecrease = false; // 附加的运算是否会使数据变少，比如select
+	private boolean isFinished = false; // 是否调用了finish
 	
 	/**
-	 * ȡαĬȡС
+	 * 取游标的默认取数大小
 	 * @return
 	 */
 	public static int getFetchCount() {
@@ -59,7 +59,7 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * αĬȡС
+	 * 设置游标的默认取数大小
 	 * @param count
 	 */
 	public static void setFetchCount(int count) {
@@ -68,9 +68,9 @@ abstract public class ICursor extends Operable implements IResource {
 
 	
 	/**
-	 * мʱҪı
-	 * õ˱ʽҪ½ʽ
-	 * ش˷ʱҪһ¸ķ
+	 * 并行计算时需要改变上下文
+	 * 子类如果用到了表达式还需要用新上下文重新解析表达式
+	 * 子类重载此方法时需要调用一下父类的方法
 	 * @param ctx
 	 */
 	public void resetContext(Context ctx) {
@@ -81,7 +81,7 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * ȡ
+	 * 取计算上下文
 	 * @return
 	 */
 	public Context getContext() {
@@ -101,8 +101,8 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * α
-	 * ·α߳ʱҪ
+	 * 设置游标的上下文
+	 * 多路游标多线程运算时需要重置上下文
 	 * @param ctx
 	 */
 	public void setContext(Context ctx) {
@@ -110,9 +110,9 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * Ϊα긽
-	 * @param op 
-	 * @param ctx 
+	 * 为游标附加运算
+	 * @param op 运算
+	 * @param ctx 计算上下文
 	 */
 	public Operable addOperation(Operation op, Context ctx) {
 		if (opList == null) {
@@ -128,7 +128,7 @@ abstract public class ICursor extends Operable implements IResource {
 			this.ctx = ctx;
 		}
 		
-		// ֶβαʱڶαʱܻݻ
+		// 分段产生游标时，在定义游标的时候可能会读出部分数据缓存了
 		if (cache != null) {
 			cache = op.process(cache, ctx);
 		}
@@ -137,10 +137,10 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * кϲһУݽṹǷǷ
-	 * ںϲαȡõĽ
-	 * @param dest 
-	 * @param src 
+	 * 把两个排列合并成一个排列，根据结构是否兼容来决定是否生成序表返回
+	 * 用于合并游标多次取数得到的结果
+	 * @param dest 排列
+	 * @param src 排列
 	 * @return Sequence
 	 */
 	public static Sequence append(Sequence dest, Sequence src) {
@@ -263,8 +263,8 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * ȡָļ¼ȡļ¼ܲn
-	 * @param n 
+	 * 大概取指定条数的记录，取的记录数可能不等于n
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	public Sequence fuzzyFetch(int n) {
@@ -315,7 +315,7 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * ʣļ¼رα
+	 * 返回剩余的记录并关闭游标
 	 * @return Sequence
 	 */
 	public Sequence fetch() {
@@ -323,8 +323,8 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * ȡָļ¼
-	 * @param n Ҫȡļ¼
+	 * 取指定数量的记录
+	 * @param n 要取的记录数
 	 * @return Sequence
 	 */
 	public synchronized Sequence fetch(int n) {
@@ -358,7 +358,7 @@ abstract public class ICursor extends Operable implements IResource {
 			}
 		}
 		
-		// ˵¼ֲȡʵȡ
+		// 操作不会过滤掉记录又不是取所有则按照实际数取
 		int size;
 		if ((n > FETCHCOUNT || !isDecrease) && n < MAXSIZE) {
 			size = n;
@@ -417,10 +417,10 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * ָʽȡn
-	 * @param exps ʽ
-	 * @param n 
-	 * @param ctx 
+	 * 按指定表达式取n组数据
+	 * @param exps 表达式数组
+	 * @param n 组数
+	 * @param ctx 计算上下文
 	 * @return Sequence
 	 */
 	public synchronized Sequence fetchGroup(Expression[] exps, int n, Context ctx) {
@@ -494,9 +494,9 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * ָʽȡһ
-	 * @param exps ʽ
-	 * @param ctx 
+	 * 按指定表达式取一组数据
+	 * @param exps 表达式数组
+	 * @param ctx 计算上下文
 	 * @return Sequence
 	 */
 	public synchronized Sequence fetchGroup(Expression[] exps, Context ctx) {
@@ -562,9 +562,9 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * ָʽȡһ
-	 * @param exp ʽ
-	 * @param ctx 
+	 * 按指定表达式取一组数据
+	 * @param exp 表达式
+	 * @param ctx 计算上下文
 	 * @return Sequence
 	 */
 	public synchronized Sequence fetchGroup(Expression exp, Context ctx) {
@@ -648,8 +648,8 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * ֶָκȡһݣ̵߳
-	 * @param field ֶ
+	 * 按指定字段号取一组数据，不会多线程调用
+	 * @param field 字段序号
 	 * @return Sequence
 	 */
 	public Sequence fetchGroup(int field) {
@@ -699,8 +699,8 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * ֶָκȡһݣ̵߳
-	 * @param fields ֶ
+	 * 按指定字段号取一组数据，不会多线程调用
+	 * @param fields 字段序号数组
 	 * @return Sequence
 	 */
 	public Sequence fetchGroup(int []fields) {
@@ -761,9 +761,9 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * ֶָκȡһݣlimitȡһҲ᷵أ̵߳
-	 * @param fields ֶ
-	 * @param limit ¼
+	 * 按指定字段号取一组数据，到了上限limit不取完这一组也会返回，不会多线程调用
+	 * @param fields 字段序号数组
+	 * @param limit 最大记录数
 	 * @return Sequence
 	 */
 	public Sequence fetchGroup(int []fields, int limit) {
@@ -825,7 +825,7 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * һ
+	 * 跳过一组数据
 	 * @param exps
 	 * @param ctx
 	 * @return
@@ -883,17 +883,17 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * м¼
-	 * @return ʵļ¼
+	 * 跳过所有记录
+	 * @return 实际跳过的记录数
 	 */
 	public long skip() {
 		return skip(MAXSKIPSIZE);
 	}
 	
 	/**
-	 * ָ¼
-	 * @param n ¼
-	 * @return long ʵļ¼
+	 * 跳过指定记录数
+	 * @param n 记录数
+	 * @return long 实际跳过的记录数
 	 */
 	public synchronized long skip(long n) {
 		if (opList == null) {
@@ -946,13 +946,13 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public void close() {
 		cache = null;
 		
 		if (isFinished) {
-			// reset
+			// 可以再reset
 			isFinished = false;
 		} else if (opList != null) {
 			finish(opList, ctx);
@@ -960,15 +960,15 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * ȡ¼Ҫʵִ˷
-	 * @param n Ҫȡļ¼
+	 * 取记录，子类需要实现此方法
+	 * @param n 要取的记录数
 	 * @return Sequence
 	 */
 	protected abstract Sequence get(int n);
 
 	/**
-	 * ģȡ¼صļ¼Բͬ
-	 * @param n Ҫȡļ¼
+	 * 模糊取记录，返回的记录数可以不与给定的数量相同
+	 * @param n 要取的记录数
 	 * @return Sequence
 	 */
 	protected Sequence fuzzyGet(int n) {
@@ -976,22 +976,22 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * ָ¼Ҫʵִ˷
-	 * @param n ¼
+	 * 跳过指定记录数，子类需要实现此方法
+	 * @param n 记录数
 	 * @return long
 	 */
 	protected abstract long skipOver(long n);
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		return false;
 	}
 	
 	/**
-	 * ؽݽṹ
+	 * 返回结果集数据结构
 	 * @return DataStruct
 	 */
 	public DataStruct getDataStruct() {
@@ -999,26 +999,26 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * ýݽṹ
-	 * @param ds ݽṹ
+	 * 设置结果集数据结构
+	 * @param ds 数据结构
 	 */
 	public void setDataStruct(DataStruct ds) {
 		dataStruct = ds;
 	}
 	
-	// αֶΣ򷵻null
+	// 返回游标的有序字段，如果无序则返回null
 	public String[] getSortFields() {
 		return null;
 	}
 	
 	/**
-	 * ȡ
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 取分组计算对象
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return IGroupsResult
 	 */
 	public IGroupsResult getGroupsResult(Expression[] exps, String[] names, Expression[] calcExps, 
@@ -1027,14 +1027,14 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * αз
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return 
+	 * 对游标进行分组汇总
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 分组结果
 	 */
 	public Table groups(Expression[] exps, String[] names, Expression[] calcExps, String[] calcNames, 
 			String opt, Context ctx) {
@@ -1044,15 +1044,15 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * αз
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @param groupCount 
-	 * @return 
+	 * 对游标进行分组汇总
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @param groupCount 结果集数量
+	 * @return 分组结果
 	 */
 	public Table groups(Expression[] exps, String[] names, Expression[] calcExps, String[] calcNames, 
 			String opt, Context ctx, int groupCount) {
@@ -1069,15 +1069,15 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * α
-	 * @param exps ʽ
-	 * @param names	ֶ
-	 * @param calcExps ܱʽ	
-	 * @param calcNames	ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @param capacity	ڴб
-	 * @return ICursor α
+	 * 对游标进行外存分组汇总
+	 * @param exps 分组表达式数组
+	 * @param names	分组字段名数组
+	 * @param calcExps 汇总表达式	数组
+	 * @param calcNames	汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @param capacity	内存中保存的最大分组结果数
+	 * @return ICursor 分组结果游标
 	 */
 	public ICursor groupx(Expression[] exps, String []names, 
 			Expression[] calcExps, String []calcNames, String opt, Context ctx, int capacity) {
@@ -1097,12 +1097,12 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * ÿʽйϣȥأcountֵͬ
-	 * @param exps ʽ
-	 * @param count 
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return Sequence еУcountΪ1
+	 * 对每个表达式进行哈希去重，保留count个不同值
+	 * @param exps 表达式数组
+	 * @param count 数量
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return Sequence 返回序列的序列，如果count为1返回序列
 	 */
 	public Sequence id(Expression []exps, int count, String opt, Context ctx) {
 		IDResult id = new IDResult(exps, count, opt, ctx);
@@ -1111,12 +1111,12 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * α
-	 * @param exp ʽ
-	 * @param initVal ʼֵ
-	 * @param c ʽΪtrueֹͣ
-	 * @param ctx 
-	 * @return 
+	 * 迭代计算游标
+	 * @param exp 迭代表达式
+	 * @param initVal 初始值
+	 * @param c 条件表达式，为true是停止
+	 * @param ctx 计算上下文
+	 * @return 迭代结果
 	 */
 	public Object iterator(Expression exp, Object initVal, Expression c, Context ctx) {
 		ComputeStack stack = ctx.getComputeStack();
@@ -1126,7 +1126,7 @@ abstract public class ICursor extends Operable implements IResource {
 		
 		try {
 			while (true) {
-				// αȡһݡ
+				// 从游标中取得一组数据。
 				Sequence src = fuzzyFetch(FETCHCOUNT);
 				if (src == null || src.length() == 0) break;
 				
@@ -1144,7 +1144,7 @@ abstract public class ICursor extends Operable implements IResource {
 							current.setCurrent(i);
 							Object obj = c.calculate(ctx);
 							
-							// Ϊ򷵻
+							// 如果条件为真则返回
 							if (obj instanceof Boolean && ((Boolean)obj).booleanValue()) {
 								return initVal;
 							}
@@ -1165,36 +1165,36 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 
 	/**
-	 * α
-	 * @param cursor α
-	 * @param exps ֶαʽ
-	 * @param ctx 
-	 * @param capacity ڴܹļ¼ûԶһ
-	 * @param opt ѡ 0null
-	 * @return źα
+	 * 对游标进行外存排序
+	 * @param cursor 游标
+	 * @param exps 排序字段表达式数组
+	 * @param ctx 计算上下文
+	 * @param capacity 内存中能够保存的记录数，如果没有设置则自动估算一个
+	 * @param opt 选项 0：null排最后
+	 * @return 排好序的游标
 	 */
 	public ICursor sortx(Expression[] exps, Context ctx, int capacity, String opt) {
 		return CursorUtil.sortx(this, exps, ctx, capacity, opt);
 	}
 
 	/**
-	 * ֵֶͬļ¼ֵͬͬ
-	 * ֵͬļ¼浽һʱļȻÿʱļ
-	 * @param exps ʽ
-	 * @param gexp ʽ
-	 * @param ctx 
-	 * @param opt ѡ
-	 * @return źα
+	 * 外存排序，排序字段值相同的记录组值相同且同序。
+	 * 组值相同的记录保存到一个临时文件，然后每个临时文件单独排序
+	 * @param exps 排序表达式
+	 * @param gexp 组表达式
+	 * @param ctx 计算上下文
+	 * @param opt 选项
+	 * @return 排好序的游标
 	 */
 	public ICursor sortx(Expression[] exps, Expression gexp, Context ctx, String opt) {
 		return CursorUtil.sortx(this, exps, gexp, ctx, opt);
 	}
 
 	/**
-	 * αл
-	 * @param calcExps ܱʽ
-	 * @param ctx 
-	 * @return ֻһܱʽػܽ򷵻ػܽɵ
+	 * 对游标进行汇总
+	 * @param calcExps 汇总表达式数组
+	 * @param ctx 计算上下文
+	 * @return 如果只有一个汇总表达式返回汇总结果，否则返回汇总结果构成的序列
 	 */
 	public Object total(Expression[] calcExps, Context ctx) {
 		//TotalResult total = new TotalResult(calcExps, ctx);
@@ -1221,34 +1221,34 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * α鲢
-	 * @param function Ӧĺ
-	 * @param exps ǰֶαʽ
-	 * @param cursors άα
-	 * @param codeExps άֶαʽ
+	 * 与游标做有序归并连接
+	 * @param function 对应的函数
+	 * @param exps 当前表关联字段表达式数组
+	 * @param cursors 维表游标数组
+	 * @param codeExps 维表关联字段表达式数组
 	 * @param newExps
 	 * @param newNames
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable mergeJoinx(Function function, Expression[][] exps, 
 			ICursor []cursors, Expression[][] codeExps, 
 			Expression[][] newExps, String[][] newNames, String opt, Context ctx) {
-		//TODO ԺҪ޸ΪOperable
+		//TODO 稍后要修改为Operable
 		return CSJoinxCursor3.MergeJoinx(this, exps, cursors, codeExps, newExps, newNames, null, ctx, FETCHCOUNT, opt);
 	}
 	
 	/**
-	 * õnewsα T.news(this)
-	 * @param table 
-	 * @param exps ȡʽ
-	 * @param fields ȡֶ
-	 * @param csNames KָA/csӵֶ
-	 * @param type	ͣ0:derive; 1:new; 2:news; 0x1X ʾ;
-	 * @param option ѡ	
-	 * @param filter tableĹ
-	 * @param fkNames tableSwitch
+	 * 得到进行news计算的游标 T.news(this)
+	 * @param table 基表
+	 * @param exps 取出表达式
+	 * @param fields 取出字段名称
+	 * @param csNames 参数K，指定A/cs参与连接的字段
+	 * @param type	计算类型，0:derive; 1:new; 2:news; 0x1X 表示跳段;
+	 * @param option 选项	
+	 * @param filter 对table的过滤条件
+	 * @param fkNames 对table的Switch过滤条件
 	 * @param codes
 	 * @param ctx
 	 */
@@ -1259,17 +1259,17 @@ abstract public class ICursor extends Operable implements IResource {
 	}
 	
 	/**
-	 * ȡֶαʼֵзֶֶ򷵻طֶֶεֵû򷵻άֶεֵ
-	 * @return ֶα¼ķֶֶεֵǰΪ0򷵻null
+	 * 取分段游标的起始值，如果有分段字段则返回分段字段的值，没有则返回维字段的值
+	 * @return 分段游标首条记录的分段字段的值，如果当前段数为0则返回null
 	 */
 	public Object[] getSegmentStartValues() {
 		throw new RQException();
 	}
 	
 	/**
-	 * һ뵱ǰαƥĹܵ
-	 * @param ctx 
-	 * @param doPush Ƿαpush
+	 * 创建一个与当前游标相匹配的管道
+	 * @param ctx 计算上下文
+	 * @param doPush 是否对游标生成push操作
 	 * @return Channel
 	 */
 	public Channel newChannel(Context ctx, boolean doPush) {
@@ -0,0 +1,297 @@
+package com.scudata.dm.cursor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import com.scudata.array.IArray;
+import com.scudata.common.RQException;
+import com.scudata.dm.Context;
+import com.scudata.dm.DataStruct;
+import com.scudata.dm.FileObject;
+import com.scudata.dm.Record;
+import com.scudata.dm.Sequence;
+import com.scudata.dm.Table;
+import com.scudata.util.JSONUtil;
+
+/**
+ * json文件游标，边读边解析，内存中只保留当前取出的数据
+ * 文件可以是一个json数组，数组的每个成员作为游标的一条数据；
+ * 也可以是一行一个的json对象（newline-delimited json），或者多个json值连在一起
+ * 每个成员用JSONUtil解析，结果跟对整个串调用json()相同
+ * @author RunQian
+ *
+ */
+public class JSONCursor extends ICursor {
+	private static final int BUFFER_SIZE = 64 * 1024; // 读字符的缓冲区大小
+
+	private FileObject fileObject; // json文件
+	private InputStream in; // 输入流，不为空时使用它代替文件，不能reset
+	private String opt; // 选项，t：排列结构不纯时将对齐成序表
+
+	private Reader reader;
+	private char []buffer; // 读入的字符
+	private int index; // 下一个字符在buffer中的位置
+	private int count; // buffer中的字符数
+	private boolean isArray; // 文件是否是一个json数组
+	private boolean isStarted; // 是否已经读过了开头的空白和数组的左括号
+	private boolean isEnd; // 是否已经读完
+
+	private char []elem = new char[1024]; // 当前成员的字符
+	private int elemLen; // 当前成员的字符数
+
+	/**
+	 * 创建json文件游标
+	 * @param fileObject json文件
+	 * @param opt 选项，t：排列结构不纯时将对齐成序表
+	 * @param ctx 计算上下文
+	 */
+	public JSONCursor(FileObject fileObject, String opt, Context ctx) {
+		this.fileObject = fileObject;
+		this.opt = opt;
+		this.ctx = ctx;
+	}
+
+	/**
+	 * 创建json输入流游标，游标不能reset
+	 * @param in 输入流
+	 * @param opt 选项，t：排列结构不纯时将对齐成序表
+	 * @param ctx 计算上下文
+	 */
+	public JSONCursor(InputStream in, String opt, Context ctx) {
+		this.in = in;
+		this.opt = opt;
+		this.ctx = ctx;
+	}
+
+	private boolean open() {
+		if (reader != null) {
+			return true;
+		} else if (isEnd) {
+			return false;
+		}
+
+		try {
+			if (in != null) {
+				reader = new InputStreamReader(in, "UTF-8");
+			} else {
+				reader = new InputStreamReader(fileObject.getInputStream(), fileObject.getCharset());
+			}
+		} catch (IOException e) {
+			throw new RQException(e.getMessage(), e);
+		}
+
+		buffer = new char[BUFFER_SIZE];
+		index = 0;
+		count = 0;
+		isStarted = false;
+		if (ctx != null) {
+			ctx.addResource(this);
+		}
+
+		return true;
+	}
+
+	// 返回下一个字符，结束了返回-1
+	private int read() throws IOException {
+		if (index == count) {
+			count = reader.read(buffer, 0, BUFFER_SIZE);
+			index = 0;
+			if (count <= 0) {
+				count = 0;
+				return -1;
+			}
+		}
+
+		return buffer[index++];
+	}
+
+	private void append(char c) {
+		if (elemLen == elem.length) {
+			char []tmp = new char[elemLen * 2];
+			System.arraycopy(elem, 0, tmp, 0, elemLen);
+			elem = tmp;
+		}
+
+		elem[elemLen++] = c;
+	}
+
+	// 读入下一个成员的字符到elem中，没有成员了返回false
+	private boolean readElement() throws IOException {
+		int c;
+		if (!isStarted) {
+			isStarted = true;
+			do {
+				c = read();
+			} while (c != -1 && Character.isWhitespace(c));
+
+			if (c == '[') {
+				isArray = true;
+			} else if (c != -1) {
+				index--;
+			}
+		}
+
+		// 跳过成员前的空白和数组成员间的逗号
+		do {
+			c = read();
+		} while (c != -1 && (Character.isWhitespace(c) || (isArray && c == ',')));
+
+		if (c == -1 || (isArray && c == ']')) {
+			return false;
+		}
+
+		elemLen = 0;
+		int level = 0; // 括号的层数
+		while (c != -1) {
+			if (c == '"') {
+				// 引号内的括号和逗号不算
+				append('"');
+				while ((c = read()) != -1) {
+					append((char)c);
+					if (c == '"') {
+						break;
+					} else if (c == '\\') {
+						c = read();
+						if (c == -1) {
+							break;
+						}
+
+						append((char)c);
+					}
+				}
+			} else if (c == '[' || c == '{') {
+				level++;
+				append((char)c);
+			} else if (c == ']' || c == '}') {
+				if (level == 0) {
+					// 数组结束
+					index--;
+					break;
+				}
+
+				append((char)c);
+				if (--level == 0 && !isArray) {
+					break;
+				}
+			} else if (level == 0 && (c == ',' || (!isArray && (c == '\n' || c == '\r')))) {
+				break;
+			} else {
+				append((char)c);
+			}
+
+			c = read();
+		}
+
+		return elemLen > 0;
+	}
+
+	/**
+	 * 读取指定条数的数据返回
+	 * @param n 数量
+	 * @return Sequence
+	 */
+	protected Sequence get(int n) {
+		if (n < 1 || !open()) {
+			return null;
+		}
+
+		Sequence seq = new Sequence(n > INITSIZE ? INITSIZE : n);
+		try {
+			for (int i = 0; i < n && readElement(); ++i) {
+				seq.add(JSONUtil.parseJSON(elem, 0, elemLen - 1, opt));
+			}
+		} catch (IOException e) {
+			close();
+			throw new RQException(e.getMessage(), e);
+		}
+
+		if (seq.length() == 0) {
+			close();
+			return null;
+		}
+
+		seq = JSONUtil.toTable(seq, opt);
+		DataStruct ds = seq.dataStruct();
+		if (ds != null) {
+			// 各批数据使用相同的数据结构
+			DataStruct prevDs = getDataStruct();
+			if (prevDs == null) {
+				setDataStruct(ds);
+			} else if (prevDs != ds && prevDs.isCompatible(ds)) {
+				int len = seq.length();
+				Table table = new Table(prevDs, len);
+				IArray mems = table.getMems();
+				for (int i = 1; i <= len; ++i) {
+					Record r = (Record)seq.getMem(i);
+					r.setDataStruct(prevDs);
+					mems.add(r);
+				}
+				
+				return table;
+			}
+		}
+
+		return seq;
+	}
+
+	/**
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
+	 */
+	protected long skipOver(long n) {
+		if (n < 1 || !open()) {
+			return 0;
+		}
+
+		long count = 0;
+		try {
+			while (count < n && readElement()) {
+				count++;
+			}
+		} catch (IOException e) {
+			close();
+			throw new RQException(e.getMessage(), e);
+		}
+
+		return count;
+	}
+
+	/**
+	 * 关闭游标
+	 */
+	public synchronized void close() {
+		super.close();
+		if (reader != null) {
+			if (ctx != null) {
+				ctx.removeResource(this);
+			}
+
+			try {
+				reader.close();
+			} catch (IOException e) {
+			}
+
+			reader = null;
+			buffer = null;
+		}
+
+		isEnd = true;
+	}
+
+	/**
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
+	 */
+	public boolean reset() {
+		close();
+		if (fileObject != null) {
+			isEnd = false;
+			return true;
+		} else {
+			return false;
+		}
+	}
+}
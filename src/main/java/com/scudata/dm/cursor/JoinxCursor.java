@@ -11,35 +11,35 @@ import com.scudata.expression.Expression;
 import com.scudata.util.Variant;
 
 /**
- * α鲢ӣα갴ֶ
- * joinx(csi:Fi,xj,..;)
+ * 多游标做有序归并连接，游标按关联字段有序
+ * joinx(csi:Fi,xj,..;…)
  * @author RunQian
  *
  */
 public class JoinxCursor extends ICursor {
-	private ICursor []cursors; // α
-	private Expression[][] exps; // ʽ
-	private DataStruct ds; // ݽṹ
+	private ICursor []cursors; // 游标数组
+	private Expression[][] exps; // 关联表达式数组
+	private DataStruct ds; // 结果集数据结构
 	private int type = 0; // 0:JOIN, 1:LEFTJOIN, 2:FULLJOIN
-	private boolean isEnd = false; // Ƿȡ
-
-	private Sequence []tables; // ÿαȡݻ
-	private Object [][]values; // ֵֶ
-	private int []seqs; // ÿα굱ǰ
-	private int []ranks; // ǰԪص01-1
-	private Sequence []nextTables; // ʱȡĺ
-	private Object [][]nextValues; // һ¼ӦĹֶεֵ
+	private boolean isEnd = false; // 是否取数结束
+
+	private Sequence []tables; // 每个游标取出的数据缓存
+	private Object [][]values; // 关联字段值数组
+	private int []seqs; // 每个游标当前缓存遍历的序号
+	private int []ranks; // 当前元素的排名，0、1、-1
+	private Sequence []nextTables; // 缓存遍历结束时取出的后续缓存
+	private Object [][]nextValues; // 后续缓存第一条记录对应的关联字段的值
 	
-	private Context []ctxs; // ÿexpsԼģÿȡݺѹջ
-	private Current []currents; // еĵǰѹջ
+	private Context []ctxs; // 每个表计算exps用自己的上下文，每个表取出数据后先压栈
+	private Current []currents; // 序列的当前计算对象，用于压栈
 
 	/**
-	 * 鲢α
-	 * @param cursors α飬α갴ֶ
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 创建有序归并关联游标
+	 * @param cursors 游标数组，游标按关联字段有序
+	 * @param exps 关联表达式数组
+	 * @param names 结果集字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public JoinxCursor(ICursor []cursors, Expression[][] exps, String []names, String opt, Context ctx) {
 		this.cursors = cursors;
@@ -62,8 +62,8 @@ public class JoinxCursor extends ICursor {
 		}
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			for (ICursor cursor : cursors) {
@@ -76,8 +76,8 @@ public class JoinxCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -170,7 +170,7 @@ public class JoinxCursor extends ICursor {
 		}
 	}
 
-	// ѵǰһαԪ
+	// 把当前所有排名第一的游标的元素跳过
 	private void popAll() {
 		Sequence []tables = this.tables;
 		Object [][]values = this.values;
@@ -228,7 +228,7 @@ public class JoinxCursor extends ICursor {
 		}
 	}
 
-	// ͬԪصеջԪأûͬ򶼵
+	// 有相同元素的序列弹出栈顶元素，如果都没有相同的则都弹出
 	private void popRepeated() {
 		Sequence []tables = this.tables;
 		Object [][]values = this.values;
@@ -343,7 +343,7 @@ public class JoinxCursor extends ICursor {
 		tables = new Sequence[tcount];
 		values = new Object[tcount][];
 		seqs = new int[tcount];
-		ranks = new int[tcount]; // еĵǰԪص
+		ranks = new int[tcount]; // 序列的当前元素的排名
 
 		nextTables = new Sequence[tcount];
 		nextValues = new Object[tcount][];
@@ -391,9 +391,9 @@ public class JoinxCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (isEnd || n < 1) {
@@ -457,7 +457,7 @@ public class JoinxCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -476,8 +476,8 @@ public class JoinxCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
@@ -10,41 +10,41 @@ import com.scudata.expression.Expression;
 import com.scudata.util.Variant;
 
 /**
- * α鲢ӣα갴ֶ
- * ǶJoinxCursorŻαΪҹֶΪֶʱôദ
+ * 两个游标做有序归并连接，游标按关联字段有序
+ * 此类是对JoinxCursor的优化，当关联的游标为两个并且关联字段为单字段时用此类处理
  * joinx(cs1:f1,x1;cs2:f2,x2)
  * @author RunQian
  *
  */
 public class JoinxCursor2 extends ICursor {
-	private ICursor cursor1; // һα
-	private ICursor cursor2; // ڶα
-	private Expression exp1; // һαĹʽ
-	private Expression exp2; // ڶαĹʽ
-	private DataStruct ds; // ݽṹ
-	private boolean isEnd = false; // Ƿȡ
+	private ICursor cursor1; // 第一个游标
+	private ICursor cursor2; // 第二个游标
+	private Expression exp1; // 第一个游标的关联表达式
+	private Expression exp2; // 第二个游标的关联表达式
+	private DataStruct ds; // 结果集数据结构
+	private boolean isEnd = false; // 是否取数结束
 
-	private Sequence data1; // һαĻ
-	private Sequence data2; // ڶαĻ
-	private Sequence value1; // һα껺ݵĹֵֶ
-	private Sequence value2; // ڶα껺ݵĹֵֶ
-	private int cur1 = -1; // һα굱ǰ
-	private int cur2 = -1; // ڶα굱ǰ
+	private Sequence data1; // 第一个游标的缓存数据
+	private Sequence data2; // 第二个游标的缓存数据
+	private Sequence value1; // 第一个游标缓存数据的关联字段值
+	private Sequence value2; // 第二个游标缓存数据的关联字段值
+	private int cur1 = -1; // 第一个游标当前缓存遍历的序号
+	private int cur2 = -1; // 第二个游标当前缓存遍历的序号
 	private int type = 0; // 0:JOIN, 1:LEFTJOIN, 2:FULLJOIN
 	
-	// αǴĲҹʽֶαʽʱʹãʱֱֶȡ
+	// 游标是纯的并且关联表达式是字段表达式时使用，此时直接用字段索引取数据
 	private int col1 = -1;
 	private int col2 = -1;
 
 	/**
-	 * α
-	 * @param cursor1 һα
-	 * @param exp1 һαĹʽ
-	 * @param cursor2 ڶα
-	 * @param exp2 ڶαĹʽ
-	 * @param names ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 构建两个游标有序关联对象
+	 * @param cursor1 第一个游标
+	 * @param exp1 第一个游标的关联表达式
+	 * @param cursor2 第二个游标
+	 * @param exp2 第二个游标的关联表达式
+	 * @param names 结果集字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public JoinxCursor2(ICursor cursor1, Expression exp1, ICursor cursor2, Expression exp2, 
 			String []names, String opt, Context ctx) {
@@ -70,8 +70,8 @@ public class JoinxCursor2 extends ICursor {
 		}
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			cursor1.resetContext(ctx);
@@ -116,7 +116,7 @@ public class JoinxCursor2 extends ICursor {
 					r.setNormalFieldValue(1, r2);
 					Sequence addData = null;
 					
-					// ظûظĶ
+					// 如果有重复的则跳过，如果都没有重复的都跳过
 					boolean hasEquals = false;
 					if (cur1 < len1) {
 						BaseRecord next = (BaseRecord)data1.getMem(cur1 + 1);
@@ -142,7 +142,7 @@ public class JoinxCursor2 extends ICursor {
 					}
 					
 					if (cur2 < len2) {
-						//data2άظġ͹ȥͷjoinxһ
+						//data2是维表，不该有重复的。（这和过去光头joinx规则不一样）
 //						BaseRecord next = (BaseRecord)data2.getMem(cur2 + 1);
 //						if (Variant.isEquals(value2, next.getNormalFieldValue(col2))) {
 //							cur2++;
@@ -169,7 +169,7 @@ public class JoinxCursor2 extends ICursor {
 								r1 = (BaseRecord)data1.getMem(cur1);
 								value1 = r1.getNormalFieldValue(col1);
 							} else {
-								cur1 = 0; // α1û
+								cur1 = 0; // 游标1没有数据了
 								break;
 							}
 							
@@ -209,7 +209,7 @@ public class JoinxCursor2 extends ICursor {
 									r1 = (BaseRecord)data1.getMem(cur1);
 									value1 = r1.getNormalFieldValue(col1);
 								} else {
-									cur1 = 0; // α1û
+									cur1 = 0; // 游标1没有数据了
 									break;
 								}
 								
@@ -222,7 +222,7 @@ public class JoinxCursor2 extends ICursor {
 								cur2 = 1;
 							}
 						} else if (!hasEquals) {
-							cur2 = 0; // α2û
+							cur2 = 0; // 游标2没有数据了
 							if (addData != null) {
 								data1 = addData;
 								len1 = addData.length();
@@ -230,7 +230,7 @@ public class JoinxCursor2 extends ICursor {
 							} else if (cur1 < len1) {
 								cur1++;
 							} else {
-								cur1 = 0; // α1û
+								cur1 = 0; // 游标1没有数据了
 							}
 							break;
 						}
@@ -371,7 +371,7 @@ public class JoinxCursor2 extends ICursor {
 					++count;
 					Sequence addData = null;
 					
-					// ظûظĶ
+					// 如果有重复的则跳过，如果都没有重复的都跳过
 					boolean hasEquals = false;
 					if (cur1 < len1) {
 						BaseRecord next = (BaseRecord)data1.getMem(cur1 + 1);
@@ -421,7 +421,7 @@ public class JoinxCursor2 extends ICursor {
 								r1 = (BaseRecord)data1.getMem(cur1);
 								value1 = r1.getNormalFieldValue(col1);
 							} else {
-								cur1 = 0; // α1û
+								cur1 = 0; // 游标1没有数据了
 								break;
 							}
 							
@@ -461,7 +461,7 @@ public class JoinxCursor2 extends ICursor {
 									r1 = (BaseRecord)data1.getMem(cur1);
 									value1 = r1.getNormalFieldValue(col1);
 								} else {
-									cur1 = 0; // α1û
+									cur1 = 0; // 游标1没有数据了
 									break;
 								}
 								
@@ -474,7 +474,7 @@ public class JoinxCursor2 extends ICursor {
 								cur2 = 1;
 							}
 						} else if (!hasEquals) {
-							cur2 = 0; // α2û
+							cur2 = 0; // 游标2没有数据了
 							if (addData != null) {
 								data1 = addData;
 								len1 = addData.length();
@@ -482,7 +482,7 @@ public class JoinxCursor2 extends ICursor {
 							} else if (cur1 < len1) {
 								cur1++;
 							} else {
-								cur1 = 0; // α1û
+								cur1 = 0; // 游标1没有数据了
 							}
 							break;
 						}
@@ -606,12 +606,12 @@ public class JoinxCursor2 extends ICursor {
 			cur2 = 0;
 		}
 
-		// αǴжϹʽǷֶαʽ
+		// 如果游标是纯的则判断关联表达式是否是字段表达式
 		if (cur1 > 0 && cur2 > 0) {
 			DataStruct ds1 = cursor1.getDataStruct();
 			DataStruct ds2 = cursor2.getDataStruct();
 			if (ds1 != null && ds2 != null) {
-				// α긽˲ܸıݽṹ
+				// 游标附加了操作可能改变了数据结构
 				Object r1 = data1.getMem(1);
 				Object r2 = data2.getMem(1);
 				if (r1 instanceof BaseRecord && ds1.isCompatible(((BaseRecord)r1).dataStruct()) &&
@@ -639,8 +639,8 @@ public class JoinxCursor2 extends ICursor {
 	}
 	
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -684,7 +684,7 @@ public class JoinxCursor2 extends ICursor {
 					Sequence addData = null;
 					Sequence addValue = null;
 					
-					// ظûظĶ
+					// 如果有重复的则跳过，如果都没有重复的都跳过
 					boolean hasEquals = false;
 					if (cur1 < len1) {
 						if (Variant.isEquals(value1.getMem(cur1), value1.getMem(cur1 + 1))) {
@@ -730,7 +730,7 @@ public class JoinxCursor2 extends ICursor {
 							} else if (cur1 < len1) {
 								cur1++;
 							} else {
-								cur1 = 0; // α1û
+								cur1 = 0; // 游标1没有数据了
 								break;
 							}
 						}
@@ -767,7 +767,7 @@ public class JoinxCursor2 extends ICursor {
 								} else if (cur1 < len1) {
 									cur1++;
 								} else {
-									cur1 = 0; // α1û
+									cur1 = 0; // 游标1没有数据了
 									break;
 								}
 							} else {
@@ -780,7 +780,7 @@ public class JoinxCursor2 extends ICursor {
 								cur2 = 1;
 							}
 						} else if (!hasEquals) {
-							cur2 = 0; // α2û
+							cur2 = 0; // 游标2没有数据了
 							if (addData != null) {
 								data1 = addData;
 								value1 = addValue;
@@ -789,7 +789,7 @@ public class JoinxCursor2 extends ICursor {
 							} else if (cur1 < len1) {
 								cur1++;
 							} else {
-								cur1 = 0; // α1û
+								cur1 = 0; // 游标1没有数据了
 							}
 							break;
 						}
@@ -912,9 +912,9 @@ public class JoinxCursor2 extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (isEnd || n < 1) {
@@ -947,7 +947,7 @@ public class JoinxCursor2 extends ICursor {
 					Sequence addData = null;
 					Sequence addValue = null;
 					
-					// ظûظĶ
+					// 如果有重复的则跳过，如果都没有重复的都跳过
 					boolean hasEquals = false;
 					if (cur1 < len1) {
 						if (Variant.isEquals(value1.getMem(cur1), value1.getMem(cur1 + 1))) {
@@ -1151,7 +1151,7 @@ public class JoinxCursor2 extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -1169,8 +1169,8 @@ public class JoinxCursor2 extends ICursor {
 	}
 
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
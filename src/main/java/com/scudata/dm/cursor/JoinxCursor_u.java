@@ -13,30 +13,30 @@ import com.scudata.util.CursorUtil;
 import com.scudata.util.HashUtil;
 
 /**
- * αڴ
- * joinx@u(csi:Fi,xj,..;P:Fi,xj,..;)
+ * 用于游标与其它内存排列做连接
+ * joinx@u(csi:Fi,xj,..;P:Fi,xj,..;…)
  * @author RunQian
  *
  */
 public class JoinxCursor_u extends ICursor {
-	private ICursor cursor; // α
-	private Expression[] exps; // ʽ
-	private DataStruct ds; // ݽṹ
+	private ICursor cursor; // 游标
+	private Expression[] exps; // 关联表达式
+	private DataStruct ds; // 结果集数据结构
 	private int type = 0; // 0:JOIN, 1:LEFTJOIN, 2:FULLJOIN
-	private boolean isEnd = false; // Ƿȡ
+	private boolean isEnd = false; // 是否取数结束
 
-	private HashUtil hashUtil = new HashUtil(); // ϣߣڼϣֵ
-	private ListBase1 [][]hashGroups; // ڴаֶĹϣ
+	private HashUtil hashUtil = new HashUtil(); // 哈希表工具，用于计算哈希值
+	private ListBase1 [][]hashGroups; // 内存排列按关联字段做的哈希分组
 	
-	private Table result; // 
+	private Table result; // 结果集序表
 	
 	/**
-	 * α
-	 * @param objs Դ飬׸Ϊα꣬Ϊ
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 创建关联游标
+	 * @param objs 数据源数组，首个为游标，其它的为排列
+	 * @param exps 关联表达式数组
+	 * @param names 结果集字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public JoinxCursor_u(Object []objs, Expression[][] exps, String []names, String opt, Context ctx) {
 		this.cursor = (ICursor)objs[0];
@@ -113,8 +113,8 @@ public class JoinxCursor_u extends ICursor {
 		}
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			cursor.resetContext(ctx);
@@ -124,8 +124,8 @@ public class JoinxCursor_u extends ICursor {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -215,9 +215,9 @@ public class JoinxCursor_u extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (isEnd || n < 1) return 0;
@@ -315,7 +315,7 @@ public class JoinxCursor_u extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -325,8 +325,8 @@ public class JoinxCursor_u extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
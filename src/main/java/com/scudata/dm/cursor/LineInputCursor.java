@@ -11,22 +11,22 @@ import com.scudata.dm.Table;
 import com.scudata.util.Variant;
 
 /**
- * ðжݽӿڹα
- * Ϊ˸ûṩԶα
+ * 用按行读数据接口构建游标
+ * 此类是为了给用户提供由自定义读数方法创建游标
  * ILineInput.cursor()
  * @author RunQian
  *
  */
 public class LineInputCursor extends ICursor {
-	private ILineInput importer; // жݽṹ
-	private DataStruct ds; // ݽṹ
-	private boolean isTitle = false; // һǷǱ
-	private boolean isSingleField = false; // Ƿ񷵻صɵ
+	private ILineInput importer; // 按行读数据结构
+	private DataStruct ds; // 结果集数据结构
+	private boolean isTitle = false; // 第一行是否是标题
+	private boolean isSingleField = false; // 是否返回单列组成的序列
 	
 	/**
-	 * жα
-	 * @param lineInput жݽӿ
-	 * @param opt ѡ
+	 * 构建按行读数据游标
+	 * @param lineInput 按行读数据接口
+	 * @param opt 选项
 	 */
 	public LineInputCursor(ILineInput lineInput, String opt) {
 		this.importer = lineInput;
@@ -111,8 +111,8 @@ public class LineInputCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -127,9 +127,9 @@ public class LineInputCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		ILineInput importer = this.importer;
@@ -165,7 +165,7 @@ public class LineInputCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -6,20 +6,20 @@ import com.scudata.dm.Sequence;
 import com.scudata.dm.op.Operation;
 
 /**
- * ڴйα
+ * 用内存序列构建游标
  * A.cursor() A.cursor(k:n)
  * @author RunQian
  *
  */
 public class MemoryCursor extends ICursor {
-	private Sequence data; // 
-	private int startSeq; // ʼλã
-	private int endSeq; // λã
-	private int next = 1; // һ¼
+	private Sequence data; // 序列
+	private int startSeq; // 起始位置，包含
+	private int endSeq; // 结束位置，不包含
+	private int next = 1; // 下一条记录的序号
 	
 	/**
-	 * ڴα
-	 * @param seq Դ
+	 * 构建内存游标
+	 * @param seq 源序列
 	 */
 	public MemoryCursor(Sequence seq) {
 		if (seq != null) {
@@ -35,10 +35,10 @@ public class MemoryCursor extends ICursor {
 	}
 
 	/**
-	 * ָ乹ڴα
-	 * @param seq Դ
-	 * @param start ʼλã
-	 * @param end λã
+	 * 按指定区间构建内存游标
+	 * @param seq 源序列
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，不包含
 	 */
 	public MemoryCursor(Sequence seq, int start, int end) {
 		if (seq != null) {
@@ -60,8 +60,8 @@ public class MemoryCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -85,7 +85,7 @@ public class MemoryCursor extends ICursor {
 				next = endSeq + 1;
 				//return data;
 				
-				// ܻ޸dataҪ¶
+				// 外面可能会修改data，所以需要产生新对象
 				return new Sequence(data);
 			}
 			
@@ -100,9 +100,9 @@ public class MemoryCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		int rest = endSeq - next + 1;
@@ -120,7 +120,7 @@ public class MemoryCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -128,8 +128,8 @@ public class MemoryCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
@@ -143,7 +143,7 @@ public class MemoryCursor extends ICursor {
 	}
 
 	/**
-	 * ʣļ¼رα
+	 * 返回剩余的记录并关闭游标
 	 * @return Sequence
 	 */
 	public Sequence fetch() {
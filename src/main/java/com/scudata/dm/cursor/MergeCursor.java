@@ -7,24 +7,24 @@ import com.scudata.util.LoserTreeNode_CS;
 import com.scudata.util.LoserTreeNode_CS1;
 
 /**
- * ṹĶα鲢γɵα
- * CS.mergex(xi,)
+ * 纯结构的多个游标做有序归并运算形成的游标
+ * CS.mergex(xi,…)
  * @author RunQian
  *
  */
 public class MergeCursor extends ICursor {
-	private ICursor []cursors; // αѾ鲢ֶ
-	private int []fields; // 鲢ֶ
-	private boolean isNullMin = true; // nullǷСֵ
+	private ICursor []cursors; // 游标内数据已经按归并字段升序排序
+	private int []fields; // 归并字段
+	private boolean isNullMin = true; // null是否当最小值
 	
-	private LoserTree loserTree; // ÿһ·αΪĽڵ㰴鲢ֵֶɰ
+	private LoserTree loserTree; // 每一路游标做为树的节点按归并字段值构成败者树
 	
 	/**
-	 * Ч鲢α
-	 * @param cursors α
-	 * @param fields ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 构建有效归并游标
+	 * @param cursors 游标数组
+	 * @param fields 关联字段索引
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public MergeCursor(ICursor []cursors, int []fields, String opt, Context ctx) {
 		this.cursors = cursors;
@@ -55,8 +55,8 @@ public class MergeCursor extends ICursor {
 		}
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			for (ICursor cursor : cursors) {
@@ -68,8 +68,8 @@ public class MergeCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -85,10 +85,8 @@ public class MergeCursor extends ICursor {
 			table = new Sequence(n);
 		}
 
-		// ѭȡ仺ѭжԸ·αȡ鲢
-		for (int i = 0; i < n && loserTree.hasNext(); ++i) {
-			table.add(loserTree.pop());
-		}
+		// 循环取数。填充缓冲区（循环过程中对各路游标的取数结果做排序归并）
+		loserTree.pop(table, n);
 
 		if (table.length() > 0) {
 			return table;
@@ -98,9 +96,9 @@ public class MergeCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		LoserTree loserTree = this.loserTree;
@@ -115,7 +113,7 @@ public class MergeCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -129,8 +127,8 @@ public class MergeCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
@@ -163,8 +161,8 @@ public class MergeCursor extends ICursor {
 	}
 	
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取排序字段名
+	 * @return 字段名数组
 	 */
 	public String[] getSortFields() {
 		return cursors[0].getSortFields();
@@ -6,32 +6,32 @@ import com.scudata.dm.Sequence;
 import com.scudata.util.Variant;
 
 /**
- * ṹα鲢γɵα
- * ǶMergeCursorŻ鲢αΪʱôദ
- * [cs1,cs2].mergex(xi,)
+ * 纯结构的两个游标做有序归并运算形成的游标
+ * 此类是对MergeCursor的优化，当归并的游标为两个时用此类处理
+ * [cs1,cs2].mergex(xi,…)
  * @author RunQian
  *
  */
 public class MergeCursor2 extends ICursor {
-	private ICursor cs1; // αѾ鲢ֶ
-	private ICursor cs2; // αѾ鲢ֶ
-	private int []fields; // ֶι鲢ֶ
-	private int field = -1; // ֶι鲢ʱʹ
+	private ICursor cs1; // 游标内数据已经按归并字段升序排序
+	private ICursor cs2; // 游标内数据已经按归并字段升序排序
+	private int []fields; // 多字段归并字段
+	private int field = -1; // 单字段归并时使用
 	
-	private Sequence data1; // һαĻ
-	private Sequence data2; // ڶαĻ
-	private int cur1 = -1; // һα굱ǰţ-1ʾûȡ0ʾȡ
-	private int cur2 = -1; // ڶα굱ǰţ-1ʾûȡ0ʾȡ
+	private Sequence data1; // 第一个游标的缓存数据
+	private Sequence data2; // 第二个游标的缓存数据
+	private int cur1 = -1; // 第一个游标当前缓存遍历的序号，-1表示还没有取数，0表示取数完毕
+	private int cur2 = -1; // 第二个游标当前缓存遍历的序号，-1表示还没有取数，0表示取数完毕
 	
-	private boolean isNullMin = true; // nullǷСֵ
+	private boolean isNullMin = true; // null是否当最小值
 	
 	/**
-	 * αĹ鲢α
-	 * @param cs1 һα
-	 * @param cs2 ڶα
-	 * @param fields 鲢ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 构建两个游标的归并游标
+	 * @param cs1 第一个游标
+	 * @param cs2 第二个游标
+	 * @param fields 归并字段序号数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public MergeCursor2(ICursor cs1, ICursor cs2, int []fields, String opt, Context ctx) {
 		this.cs1 = cs1;
@@ -57,8 +57,8 @@ public class MergeCursor2 extends ICursor {
 		return cs2;
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			cs1.resetContext(ctx);
@@ -723,9 +723,9 @@ public class MergeCursor2 extends ICursor {
 	}
 	
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (n < 1) return 0;
@@ -739,7 +739,7 @@ public class MergeCursor2 extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -752,8 +752,8 @@ public class MergeCursor2 extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
@@ -768,24 +768,24 @@ public class MergeCursor2 extends ICursor {
 	}
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取排序字段序号
+	 * @return 字段序号数组
 	 */
 	public int[] getFields() {
 		return fields;
 	}
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取排序字段名
+	 * @return 字段名数组
 	 */
 	public String[] getSortFields() {
 		return cs1.getSortFields();
 	}
 	
 	/**
-	 * ȡֶαʼֵзֶֶ򷵻طֶֶεֵû򷵻άֶεֵ
-	 * @return ֶα¼ķֶֶεֵǰΪ0򷵻null
+	 * 取分段游标的起始值，如果有分段字段则返回分段字段的值，没有则返回维字段的值
+	 * @return 分段游标首条记录的分段字段的值，如果当前段数为0则返回null
 	 */
 	public Object[] getSegmentStartValues() {
 		return cs1.getSegmentStartValues();
@@ -6,54 +6,56 @@ import com.scudata.dm.Current;
 import com.scudata.dm.Sequence;
 import com.scudata.dm.op.Operation;
 import com.scudata.expression.Expression;
+import com.scudata.util.LoserTree;
+import com.scudata.util.LoserTreeNode_Exp;
 import com.scudata.util.Variant;
 
 /**
- * α鲢γɵα
- * ÿαڵݾѾضʽź˳
- * 󣬸αʱضĹ鲢
- * c----conj    ·αΰʽexps
- * u----union   ظݡͬһαڵظظ
- * i----isect   ·αĹͬݲ
- * d----diff    һУûе
+ * 多个游标做有序归并运算形成的游标
+ * 每个游标内的数据均已经按特定表达式排好顺序。
+ * 最后，该游标输出时，按特定的规则归并输出。
+ * c----conj    多路游标依次按表达式（变量exps）排序输出。
+ * u----union   数据输出，但不输出重复数据。同一游标内的数据重复不算重复。
+ * i----isect   各路游标的共同数据才输出。
+ * d----diff    第一列中有，而其它列没有的输出。
  * @author RunQian
  *
  */
 public class MergesCursor extends ICursor {
-	/** ɶ·α顣αѾexpsŹ(֧) **/
+	/** 组成多路游标的数组。游标内数据已经按exps排过序(仅支持升序排列) **/
 	private ICursor []cursors;
-	/** ·αıʽ˱ʽ(֧)αѾɴ˱ʽ **/
+	/** 多路游标的表达式。结果按此表达式排序(仅支持升序排列)。各个组成游标已经先由此表达式排序过。 **/
 	private Expression[] exps;
-	/** ʱ **/
+	/** 上下问变量 **/
 	private Context ctx;
-	/** ·α꣬α鲢 **/
+	/** 多路游标，游标归并规则。 **/
 	private char type = 'c'; // c:conj  u:union  i:isect  d:diff x:xor
-	/** ݻ·α **/
-	private Sequence []tables;	// ݻڻyo
-	/** ǰݸݱʽļ **/
+	/** 数据缓冲区，缓冲各路游标的数据 **/
+	private Sequence []tables;	// 数据缓冲区，用于缓冲各个yo
+	/** 当前数据根据表达式的计算结果 **/
 	private Object [][]values;
-	/** ǰڸԻ **/
+	/** 当前处理的数据在各自缓冲区的索引 **/
 	private int []seqs;	
-	/** еǰԪأС **/
-	private int []items; 		// еĵǰԪشС
+	/** conj时每一路游标做为树的节点按归并值构成败者树 **/
+	private LoserTree loserTree;
 	
-	/** ǰԪص **/
-	private int []ranks; // ǰԪص01-1unionisectdiffxorʹ
-	/** Ƿȡ **/
+	/** 当前元素的排名 **/
+	private int []ranks; // 当前元素的排名0、1、-1，union、isect、diff、xor使用
+	/** 是否取数完毕 **/
 	private boolean isEnd = false;
-	/** nullСֵֵ **/
-	private boolean isNullMin = true; // nullǷСֵ
+	/** null是最小值还是最大值 **/
+	private boolean isNullMin = true; // null是否当最小值
 	private Object NULL = this;
 
-	private Context []ctxs; // ÿexpsԼģÿȡݺѹջ
+	private Context []ctxs; // 每个表计算exps用自己的上下文，每个表取出数据后先压栈
 	private Current []currents;
 	private Expression[][] dupExps;
 	
 	/**
-	 * ·α깹캯
-	 * @param cursors	ɶ·α	
-	 * @param exps		ʽcursorsеÿԱݸñʽŹ
-	 * @param ctx		ı
+	 * 多路游标构造函数
+	 * @param cursors	组成多路游标的数组	
+	 * @param exps		排序表达式。cursors中的每个成员都根据该表达式数组排过序。
+	 * @param ctx		上下文变量。
 	 */
 	public MergesCursor(ICursor []cursors, Expression[] exps, Context ctx) {
 		this(cursors, exps, null, ctx);
@@ -61,17 +63,17 @@ public class MergesCursor extends ICursor {
 	
 	/**
 	 * 
-	 * ·α깹캯
-	 * @param cursors	ɶ·α	
-	 * @param exps		ʽcursorsеÿԱݸñʽŹ
-	 * @param opt		α鲢cuidĸ⡣0棩
-	 * 			c----conj    ·αΰʽexps
-	 *			u----union   ظݡͬһαڵظظ
-	 *			i----isect   α궼е
-	 *			d----diff    һУûе
-	 *			x----xor 	 α
-	 *			0			 һ档0ʾΪnullʱΪֵΪСֵ
-	 * @param ctx		ı
+	 * 多路游标构造函数
+	 * @param cursors	组成多路游标的数组	
+	 * @param exps		排序表达式。cursors中的每个成员都根据该表达式数组排过序。
+	 * @param opt		游标归并参数。（c、u、i、d四个参数互斥。0可以与其它参数共存）
+	 * 			c----conj    多路游标依次按表达式（变量exps）排序输出。
+	 *			u----union   数据输出，但不输出重复数据。同一游标内的数据重复不算重复。
+	 *			i----isect   所有游标都有的数据输出。
+	 *			d----diff    第一列中有，而其它列没有的输出。
+	 *			x----xor 	 所有游标依次异或。
+	 *			0			 可以与其它任一参数共存。有0，表示当数据为null时，为最大值，否则为最小值。
+	 * @param ctx		上下文变量。
 	 */
 	public MergesCursor(ICursor []cursors, Expression[] exps, String opt, Context ctx) {
 		this.cursors = cursors;
@@ -97,8 +99,8 @@ public class MergesCursor extends ICursor {
 		}
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			for (ICursor cursor : cursors) {
@@ -111,59 +113,9 @@ public class MergesCursor extends ICursor {
 	}
 
 	/**
-	 * ѡһҪȡݡûݿɶ򷵻false;
-	 *		ոȡݵα꣬лǰݡα껺еݾȡٴλһݡ
-	 *		ոձлݣԱʽ㡣
-	 *		ݸα굱ǰݶԱʽļѡһҪȡ
-	 * 
-	 * @return	true	ǰȡ
-	 * 			false	ǰݿȡ
-	 */
-	private boolean popTop() {
-		int []items = this.items;
-		int count = items.length;
-		int item = items[0];
-		Sequence table = tables[item];
-
-		// ոȡݵα꣬ˣͶȡµݡ
-		int next = seqs[item] + 1;
-		if (next > table.length()) {
-			ComputeStack stack = ctxs[item].getComputeStack();
-			stack.pop();
-			
-			table = cursors[item].fuzzyFetch(FETCHCOUNT_M);
-			if (table == null || table.length() == 0) {
-				for (int j = 1; j < count; ++j) {
-					items[j - 1] = items[j];
-				}
-
-				tables[item] = null;
-				values[item] = null;
-				items[count - 1] = -1;
-
-				return items[0] != -1;
-			}
-
-			currents[item] = new Current(table, 1);
-			stack.push(currents[item]);
-			tables[item] = table;
-			next = 1;
-		}
-
-		// л굱ǰݣԱʽ㡣
-		seqs[item] = next;
-		currents[item].setCurrent(next);
-		calc(dupExps[item], ctxs[item], values[item]);
-		
-		// ѡһҪȡݡ
-		topChange(values, items);
-		return true;
-	}
-
-	/**
-	 * ų·αеظݡ
+	 * 排除各路游标中的重复数据。
 	 * 		
-	 * @return	ؾغȡõ
+	 * @return	返回经过排重后取得得数据
 	 */
 	private Object popRepeated() {
 		Sequence []tables = this.tables;
@@ -229,9 +181,9 @@ public class MergesCursor extends ICursor {
 	}
 	
 	/**
-	 * ų·αݡ
+	 * 排除各路游标异或的数据。
 	 * 		
-	 * @return	ؾغȡõ
+	 * @return	返回经过排重后取得得数据
 	 */
 	private Object popXor() {
 		Sequence []tables = this.tables;
@@ -243,7 +195,7 @@ public class MergesCursor extends ICursor {
 		
 		while (true) {
 			r = NULL;
-			int xorCount = 0;//Сֵĸ
+			int xorCount = 0;//最小值的个数
 			for (int i = 0; i < count; ++i) {
 				if (ranks[i] == 0) {
 					if (r == NULL) 
@@ -276,7 +228,7 @@ public class MergesCursor extends ICursor {
 			}
 			if (r == NULL)
 				return r;
-			//
+			//调整排名
 			for (int i = 0; i < count; ++i) {
 				if (ranks[i] != -1) {
 					ranks[i] = 0;
@@ -300,51 +252,13 @@ public class MergesCursor extends ICursor {
 				}
 			}
 		
-			//СֵֵĸǵԷ
+			//如果最小值出现的个数是单数，则可以返回了
 			if (xorCount % 2 == 1 )
 				break;
 		}
 		return r;
 	}
 	
-	/**
-	 * ѡ·αһҪȡݡ
-	 * 
-	 * @param values	α굱ǰݸݱʽļ
-	 * @param items		α굱ǰݣڻе
-	 */
-	private void topChange(Object [][]values, int []items) {
-		int item = items[0];
-		Object []obj = values[item];
-		if (items[1] == -1 || compareArrays(obj, values[items[1]]) <= 0) {
-			return;
-		}
-
-		int low = 2;
-		int high = values.length - 1;
-		while (low <= high) {
-			int mid = (low + high) >> 1;
-			if (items[mid] == -1) {
-				high = mid - 1;
-			} else {
-				int cmp = compareArrays(obj, values[items[mid]]);
-				if (cmp < 0) {
-					high = mid - 1;
-				} else if (cmp > 0) {
-					low = mid + 1;
-				} else {
-					System.arraycopy(items, 1, items, 0, mid - 1);
-					items[mid - 1] = item;
-					return; // key found
-				}
-			}
-		}
-
-		// key not found
-		System.arraycopy(items, 1, items, 0, low - 1);
-		items[low - 1] = item;
-	}
-	
 	private static void calc(Expression []exps, Context ctx, Object []outValues) {
 		for (int i = 0, len = exps.length; i < len; ++i) {
 			outValues[i] = exps[i].calculate(ctx);
@@ -352,17 +266,30 @@ public class MergesCursor extends ICursor {
 	}
 	
 	/**
-	 * αĻ
-	 * 		ֱӷء
+	 * 填充各个游标的缓冲区
+	 * 		若缓冲区内有数据则直接返回。
 	 */
 	private void getData() {
-		if (tables != null) return;
+		if (tables != null || loserTree != null) return;
 
 		ICursor []cursors = this.cursors;
 		Expression[] exps = this.exps;
 		Context ctx = this.ctx;
 
 		int tcount = cursors.length;
+		if (type == 'c') {
+			// 每一路成批计算归并值，连续取自同一路的数据一次取出
+			LoserTreeNode_Exp []nodes = new LoserTreeNode_Exp[tcount];
+			for (int i = 0; i < tcount; ++i) {
+				Context curCtx = ctx.newComputeContext();
+				Expression []curExps = Operation.dupExpressions(exps, curCtx);
+				nodes[i] = new LoserTreeNode_Exp(cursors[i], curExps, isNullMin, curCtx);
+			}
+			
+			loserTree = new LoserTree(nodes);
+			return;
+		}
+		
 		tables = new Sequence[tcount];
 		values = new Object[tcount][];
 		seqs = new int[tcount];
@@ -371,87 +298,50 @@ public class MergesCursor extends ICursor {
 		currents = new Current[tcount];
 		dupExps = new Expression[tcount][];
 		
-		if (type == 'c') {
-			items = new int[tcount]; // еĵǰԪشС
-			for (int i = 0; i < tcount; ++i) {
-				ctxs[i] = ctx.newComputeContext();
-				dupExps[i] = Operation.dupExpressions(exps, ctxs[i]);
-				Sequence table = cursors[i].fuzzyFetch(FETCHCOUNT_M);
-				if (table != null && table.length() > 0) {
-					Object []curValues = new Object[exps.length];
-					currents[i] = new Current(table, 1);
-					ctxs[i].getComputeStack().push(currents[i]);
-					calc(dupExps[i], ctxs[i], curValues);
-					
-					tables[i] = table;
-					values[i] = curValues;
-					seqs[i] = 1;
-					items[i] = i;
-
-					for (int j = 0; j < i; ++j) {
-						if (items[j] == -1) {
-							items[j] = i;
-							items[i] = -1;
-							break;
-						} else if (compareArrays(curValues, values[items[j]]) < 0) {
-							for (int k = i; k > j; --k) {
-								items[k] = items[k - 1];
-							}
-
-							items[j] = i;
-							break;
-						}
-					}
-				} else {
-					items[i] = -1;
-				}
-			}
-		} else {
-			ranks = new int[tcount]; // еĵǰԪص
-			for (int i = 0; i < tcount; ++i) {
-				ctxs[i] = ctx.newComputeContext();
-				dupExps[i] = Operation.dupExpressions(exps, ctxs[i]);
-				Sequence table = cursors[i].fuzzyFetch(FETCHCOUNT_M);
-				if (table != null && table.length() > 0) {
-					Object []curValues = new Object[exps.length];
-					currents[i] = new Current(table, 1);
-					ctxs[i].getComputeStack().push(currents[i]);
-					calc(dupExps[i], ctxs[i], curValues);
-
-					tables[i] = table;
-					values[i] = curValues;
-					seqs[i] = 1;
-					ranks[i] = 0;
+		ranks = new int[tcount]; // 序列的当前元素的排名
+		for (int i = 0; i < tcount; ++i) {
+			ctxs[i] = ctx.newComputeContext();
+			dupExps[i] = Operation.dupExpressions(exps, ctxs[i]);
+			Sequence table = cursors[i].fuzzyFetch(FETCHCOUNT_M);
+			if (table != null && table.length() > 0) {
+				Object []curValues = new Object[exps.length];
+				currents[i] = new Current(table, 1);
+				ctxs[i].getComputeStack().push(currents[i]);
+				calc(dupExps[i], ctxs[i], curValues);
+
+				tables[i] = table;
+				values[i] = curValues;
+				seqs[i] = 1;
+				ranks[i] = 0;
 
-					for (int j = 0; j < i; ++j) {
-						if (ranks[j] == 0) {
-							int cmp = compareArrays(curValues, values[j]);
-							if (cmp < 0) {
-								ranks[j] = 1;
-								for (++j; j < i; ++j) {
-									if (ranks[j] == 0) {
-										ranks[j] = 1;
-									}
+				for (int j = 0; j < i; ++j) {
+					if (ranks[j] == 0) {
+						int cmp = compareArrays(curValues, values[j]);
+						if (cmp < 0) {
+							ranks[j] = 1;
+							for (++j; j < i; ++j) {
+								if (ranks[j] == 0) {
+									ranks[j] = 1;
 								}
-							} else if (cmp > 0) {
-								ranks[i] = 1;
 							}
-
-							break;
+						} else if (cmp > 0) {
+							ranks[i] = 1;
 						}
+
+						break;
 					}
-				} else {
-					ranks[i] = -1;
 				}
+			} else {
+				ranks[i] = -1;
 			}
 		}
 	}
 
 	/**
-	 * uidģʽµȡ
+	 * uid四种模式下的取数
 	 * 		
-	 * @param n	Ҫȡ
-	 * @return	ȡ
+	 * @param n	要取得数据量
+	 * @return	返回取数结果
 	 */
 	private Sequence get_uid(int n) {
 		Sequence table;
@@ -461,9 +351,9 @@ public class MergesCursor extends ICursor {
 			table = new Sequence(n);
 		}
 
-		if (type == 'u') {	// u--unionȥغϲ·α
+		if (type == 'u') {	// u--union去重合并各路游标数据
 			for (int i = 0; i < n; ++i) {
-				// ȥȡųظ
+				// 调用去重取数函数，排除重复数据
 				Object r = popRepeated();
 				if (r != NULL) {
 					table.add(r);
@@ -471,7 +361,7 @@ public class MergesCursor extends ICursor {
 					break;
 				}
 			}
-		} else if (type == 'i') {	// i--isect·αĹͬ
+		} else if (type == 'i') {	// i--isect仅输出各路游标的共同数据
 			int []ranks = this.ranks;
 			int tcount = tables.length;
 
@@ -491,7 +381,7 @@ public class MergesCursor extends ICursor {
 				table.add(r);
 				--n;
 			}
-		} else if (type == 'x') {	// x--xor·αĽ
+		} else if (type == 'x') {	// x--xor输出各路游标依次异或的结果
 			for (int i = 0; i < n; ++i) {
 				Object r = popXor();
 				if (r != NULL) {
@@ -500,7 +390,7 @@ public class MergesCursor extends ICursor {
 					break;
 				}
 			}
-		} else { // d--diff	һ·αе
+		} else { // d--diff	仅输出第一路游标独有的数据
 			int []ranks = this.ranks;
 			int tcount = tables.length;
 
@@ -595,30 +485,28 @@ public class MergesCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָ
-	 * 		жȡ١
-	 * 		uidȡʽget_uiʵ֡
-	 * 		ҪΪcʽȡ̡Уķʽȡݡ
-	 * @param	n	Ҫȡ
+	 * 取得指定数量的数据
+	 * 		若不足给定数量，则有多少取多少。
+	 * 		uid三种取数方式，由get_ui函数实现。
+	 * 		本函数的主要流程为c方式的取数流程。此流程中，以升序的方式取得数据。
+	 * @param	n	要取得数据数
 	 */
 	protected Sequence get(int n) {
 		if (isEnd || n < 1) return null;
 		
 		try {
-			// 仺
+			// 填充缓冲区
 			getData();
 	
-			// uidģʽµȡ
+			// uid三种模式下的取数
 			if (type != 'c') return get_uid(n);
 			
-			int []items = this.items;
-			if (items[0] == -1) {
+			LoserTree loserTree = this.loserTree;
+			if (!loserTree.hasNext()) {
 				return null;
 			}
 	
-			// ݻ
-			Sequence []tables = this.tables;
-			int []seqs = this.seqs;
+			// 分配结果数据缓冲区
 			Sequence table;
 			if (n > INITSIZE) {
 				table = new Sequence(INITSIZE);
@@ -626,17 +514,8 @@ public class MergesCursor extends ICursor {
 				table = new Sequence(n);
 			}
 	
-			// ѭȡ仺ѭжԸ·αȡ鲢
-			for (int i = 0; i < n; ++i) {
-				int item = items[0];
-				Object r = tables[item].getMem(seqs[item]);
-				table.add(r);
-	
-				if (!popTop()) {
-					break;
-				}
-			}
-	
+			// 循环取数。填充缓冲区（循环过程中对各路游标的取数结果做排序归并）
+			loserTree.pop(table, n);
 			return table;
 		} catch (RuntimeException e) {
 			close();
@@ -645,9 +524,9 @@ public class MergesCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (isEnd || n < 1) return 0;
@@ -657,15 +536,13 @@ public class MergesCursor extends ICursor {
 	
 			if (type != 'c') return skip_uid(n);
 	
-			int []items = this.items;
-			if (items[0] == -1) {
-				return 0;
-			}
-	
+			LoserTree loserTree = this.loserTree;
 			for (long i = 0; i < n; ++i) {
-				if (!popTop()) {
-					return i + 1;
+				if (!loserTree.hasNext()) {
+					return i;
 				}
+				
+				loserTree.pop();
 			}
 	
 			return n;
@@ -676,7 +553,7 @@ public class MergesCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -688,14 +565,14 @@ public class MergesCursor extends ICursor {
 			tables = null;
 			values = null;
 			seqs = null;
-			items = null;
+			loserTree = null;
 			isEnd = true;
 		}
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
@@ -711,8 +588,8 @@ public class MergesCursor extends ICursor {
 	}
 	
 	/**
-	 * ·αڶԱݵĴС
-	 * isNullMinͬıȽ
+	 * 多路游标内对比两个数据的大小
+	 * 根据isNullMin做不同的比较
 	 */
 	private int compareArrays(Object []o1, Object []o2) {
 		if (isNullMin) {
@@ -23,22 +23,22 @@ import com.scudata.util.CursorUtil;
 import com.scudata.util.HashUtil;
 
 /**
- * ·α꣬ڶ̼߳
+ * 多路游标，用于多线程计算
  * @author WangXiaoJun
  *
  */
 public class MultipathCursors extends ICursor implements IMultipath {
-	private ICursor []cursors; // ÿһ·α깹ɵ
+	private ICursor []cursors; // 每一路的游标构成的数组
 	
-	// ³Աαfetchͨ·αfetchǲᱻõ
-	private Sequence table; // ļ¼
-	private CursorReader []readers; // ÿһ·αȡ񣬲ö߳
-	private boolean isEnd = false; // Ƿȡ
+	// 以下成员用于游标的fetch函数，通常多路游标的fetch是不会被调用的
+	private Sequence table; // 读出的记录缓存
+	private CursorReader []readers; // 每一路游标的取数任务，采用多线程
+	private boolean isEnd = false; // 是否取数结束
 	
 	/**
-	 * ·α
-	 * @param cursors α
-	 * @param ctx 
+	 * 构建多路游标
+	 * @param cursors 游标数组
+	 * @param ctx 计算上下文
 	 */
 	public MultipathCursors(ICursor []cursors, Context ctx) {
 		setDataStruct(cursors[0].getDataStruct());
@@ -59,9 +59,9 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * ·α
-	 * @param cursors α
-	 * @param ctx 
+	 * 构建多路游标
+	 * @param cursors 游标数组
+	 * @param ctx 计算上下文
 	 */
 	public MultipathCursors(ICursor []cursors) {
 		this.cursors = cursors;
@@ -69,15 +69,15 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 
 	/**
-	 * ·αɵ
-	 * @return α
+	 * 返回所有路游标组成的数组
+	 * @return 游标数组
 	 */
 	public ICursor[] getCursors() {
 		return cursors;
 	}
 	
 	/**
-	 * ȡָ·α
+	 * 取指定路的游标
 	 * @param p
 	 * @return
 	 */
@@ -86,8 +86,8 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * ȡ·α·
-	 * @return ·
+	 * 取多路游标路数
+	 * @return 路数
 	 */
 	public int getPathCount() {
 		return cursors.length;
@@ -108,9 +108,9 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * Ϊα긽
-	 * @param op 
-	 * @param ctx 
+	 * 为游标附加运算
+	 * @param op 运算
+	 * @param ctx 计算上下文
 	 */
 	public Operable addOperation(Operation op, Context ctx) {
 		for (ICursor cursor : cursors) {
@@ -123,8 +123,8 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * ·αɵ
-	 * @return α
+	 * 返回所有路游标组成的数组
+	 * @return 游标数组
 	 */
 	public ICursor[] getParallelCursors() {
 		if (readers != null) {
@@ -175,8 +175,8 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -241,9 +241,9 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (isEnd || n < 1) return 0;
@@ -314,7 +314,7 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -331,8 +331,8 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
@@ -349,7 +349,7 @@ public class MultipathCursors extends ICursor implements IMultipath {
 
 	private static Table groups(ICursor []cursors, Expression[] exps, String[] names, 
 			Expression[] calcExps, String[] calcNames, String opt, Context ctx, int groupCount) {
-		// ɷύ̳߳
+		// 生成分组任务并提交给线程池
 		int cursorCount = cursors.length;		
 		ThreadPool pool = ThreadPool.newInstance(cursorCount);
 		GroupsJob []jobs = new GroupsJob[cursorCount];
@@ -371,7 +371,7 @@ public class MultipathCursors extends ICursor implements IMultipath {
 				pool.submit(jobs[i]);
 			}
 			
-			// ȴִϣѽӵһ
+			// 等待分组任务执行完毕，并把结果添加到一个序表
 			for (int i = 0; i < cursorCount; ++i) {
 				jobs[i].join();
 				
@@ -395,7 +395,7 @@ public class MultipathCursors extends ICursor implements IMultipath {
 		GroupsSyncReader cursorReader = new GroupsSyncReader(cursors, exps, hashUtil, ctx);
 		capacity = hashUtil.getCapacity();
 		
-		// ɷύ̳߳
+		// 生成分组任务并提交给线程池
 		int cursorCount = cursors.length / 2;
 		ThreadPool pool = ThreadPool.newInstance(cursorCount);
 		GroupsJob2 []jobs = new GroupsJob2[cursorCount];
@@ -416,7 +416,7 @@ public class MultipathCursors extends ICursor implements IMultipath {
 				pool.submit(jobs[i]);
 			}
 			
-			// ȴִϣѽӵһ
+			// 等待分组任务执行完毕，并把结果添加到一个序表
 			for (int i = 0; i < cursorCount; ++i) {
 				jobs[i].join();
 				
@@ -435,13 +435,13 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * ȡ
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 取分组计算对象
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return IGroupsResult
 	 */
 	public IGroupsResult getGroupsResult(Expression[] exps, String[] names, Expression[] calcExps, 
@@ -450,14 +450,14 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * αз
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return 
+	 * 对游标进行分组汇总
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 分组结果
 	 */
 	public Table groups(Expression[] exps, String[] names, Expression[] calcExps, String[] calcNames, String opt, Context ctx) {
 		if (cursors.length == 1) {
@@ -468,15 +468,15 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * αз
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @param groupCount 
-	 * @return 
+	 * 对游标进行分组汇总
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @param groupCount 结果集数量
+	 * @return 分组结果
 	 */
 	public Table groups(Expression[] exps, String[] names, Expression[] calcExps, String[] calcNames, 
 			String opt, Context ctx, int groupCount) {
@@ -494,15 +494,15 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * α鲢
-	 * @param function Ӧĺ
-	 * @param exps ǰֶαʽ
-	 * @param cursors άα
-	 * @param codeExps άֶαʽ
+	 * 与游标做有序归并连接
+	 * @param function 对应的函数
+	 * @param exps 当前表关联字段表达式数组
+	 * @param cursors 维表游标数组
+	 * @param codeExps 维表关联字段表达式数组
 	 * @param newExps
 	 * @param newNames
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable mergeJoinx(Function function, Expression[][] exps, 
@@ -514,7 +514,7 @@ public class MultipathCursors extends ICursor implements IMultipath {
 		for (int p = 0; p < pathCount; ++p) {
 			ICursor []curCodeCursors = new ICursor[tableCount];
 			for (int t = 0; t < tableCount; ++t) {
-				// ӱҪֶͬΣͬһ·
+				// 主子表需要同步分段，同一路的做连接
 				if (codeCursors[t] == null) {
 					continue;
 				} else if (!(codeCursors[t] instanceof MultipathCursors)) {
@@ -531,7 +531,7 @@ public class MultipathCursors extends ICursor implements IMultipath {
 				curCodeCursors[t] = mcs.getPathCursor(p);
 			}
 			
-			// Ʊʽ
+			// 复制表达式
 			ctx = cursors[p].getContext();
 			Expression [][]curExps = Operation.dupExpressions(exps, ctx);
 			Expression [][]curCodeExps = Operation.dupExpressions(codeExps, ctx);
@@ -543,22 +543,22 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
+	 * 做连接
+	 * @param function 对应的函数
 	 * @param fname
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
 	 * @param newExps
 	 * @param newNames
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable join(Function function, String fname, Expression[][] exps, Sequence[] codes,
 			  Expression[][] dataExps, Expression[][] newExps, String[][] newNames, String opt, Context ctx) {
 		for (ICursor subCursor : cursors) {
-			// Ʊʽ
+			// 复制表达式
 			ctx = subCursor.getContext();
 			Expression [][]curExps = Operation.dupExpressions(exps, ctx);
 			Expression [][]curDataExps = Operation.dupExpressions(dataExps, ctx);
@@ -570,23 +570,23 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * Զ̱
-	 * @param function Ӧĺ
+	 * 与远程表做连接
+	 * @param function 对应的函数
 	 * @param fname
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
 	 * @param newExps
 	 * @param newNames
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable joinRemote(Function function, String fname, Expression[][] exps, 
 			Object[] codes, Expression[][] dataExps, 
 			Expression[][] newExps, String[][] newNames, String opt, Context ctx) {
 		for (ICursor subCursor : cursors) {
-			// Ʊʽ
+			// 复制表达式
 			ctx = subCursor.getContext();
 			Expression [][]curExps = Operation.dupExpressions(exps, ctx);
 			Expression [][]curDataExps = Operation.dupExpressions(dataExps, ctx);
@@ -598,18 +598,18 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * ӹˣܹϵ
-	 * @param function Ӧĺ
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 进行连接过滤，保留能关联上的
+	 * @param function 对应的函数
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable filterJoin(Function function, Expression[][] exps, Sequence[] codes, Expression[][] dataExps, String opt, Context ctx) {
 		for (ICursor subCursor : cursors) {
-			// Ʊʽ
+			// 复制表达式
 			ctx = subCursor.getContext();
 			Expression [][]curExps = Operation.dupExpressions(exps, ctx);
 			Expression [][]curDataExps = Operation.dupExpressions(dataExps, ctx);
@@ -620,18 +620,18 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * ӹˣܹϵ
-	 * @param function Ӧĺ
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 进行连接过滤，保留能关联不上的
+	 * @param function 对应的函数
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable diffJoin(Function function, Expression[][] exps, Sequence[] codes, Expression[][] dataExps, String opt, Context ctx) {
 		for (ICursor subCursor : cursors) {
-			// Ʊʽ
+			// 复制表达式
 			ctx = subCursor.getContext();
 			Expression [][]curExps = Operation.dupExpressions(exps, ctx);
 			Expression [][]curDataExps = Operation.dupExpressions(dataExps, ctx);
@@ -642,11 +642,11 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param fltExp 
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 过滤
+	 * @param function 对应的函数
+	 * @param fltExp 过滤条件
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable select(Function function, Expression fltExp, String opt, Context ctx) {
@@ -659,12 +659,12 @@ public class MultipathCursors extends ICursor implements IMultipath {
 		return this;
 	}
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param fltExp 
-	 * @param opt ѡ
-	 * @param pipe ڴĳԱ
-	 * @param ctx 
+	 * 过滤
+	 * @param function 对应的函数
+	 * @param fltExp 过滤条件
+	 * @param opt 选项
+	 * @param pipe 用于处理不满足条件的成员
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable select(Function function, Expression fltExp, String opt, IPipe pipe, Context ctx) {
@@ -678,13 +678,13 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * Ӽ
-	 * @param function Ӧĺ
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param opt ѡ
+	 * 添加计算列
+	 * @param function 对应的函数
+	 * @param exps 计算表达式数组
+	 * @param names 字段名数组
+	 * @param opt 选项
 	 * @param level
-	 * @param ctx 
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable derive(Function function, Expression []exps, String []names, String opt, int level, Context ctx) {
@@ -698,12 +698,12 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param newExps ʽ
-	 * @param names ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 产生新序表
+	 * @param function 对应的函数
+	 * @param newExps 计算表达式数组
+	 * @param names 字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable newTable(Function function, Expression []newExps, String []names, String opt, Context ctx) {
@@ -717,11 +717,11 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 分组表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression []exps, String opt, Context ctx) {
@@ -734,12 +734,12 @@ public class MultipathCursors extends ICursor implements IMultipath {
 		return this;
 	}
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ǰ벿ķֶαʽ
-	 * @param sortExps 벿ķֶαʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 前半部分有序的分组字段表达式
+	 * @param sortExps 后半部分无序的分组字段表达式
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression []exps, Expression []sortExps, String opt, Context ctx) {
@@ -754,14 +754,14 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param newExps ܱʽ
-	 * @param newNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression[] exps, String []names, 
@@ -777,16 +777,16 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ǰ벿ķֶαʽ
-	 * @param names ֶ
-	 * @param sortExps 벿ķֶαʽ
-	 * @param sortNames ֶ
-	 * @param newExps ܱʽ
-	 * @param newNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 前半部分有序的分组字段表达式
+	 * @param names 字段名数组
+	 * @param sortExps 后半部分无序的分组字段表达式
+	 * @param sortNames 字段名数组
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression[] exps, String []names, 
@@ -804,14 +804,14 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 	
 	/**
-	 * Ӽ
-	 * @param function ĺ
-	 * @param fkNames ֶ
-	 * @param timeFkNames ʱ
-	 * @param codes ά
-	 * @param exps ά
-	 * @param timeExps άʱ¼
-	 * @param opt ѡ
+	 * 连接计算
+	 * @param function 所属的函数对象
+	 * @param fkNames 外键字段名数组
+	 * @param timeFkNames 时间外键名数组
+	 * @param codes 维表数组
+	 * @param exps 维表主键数组
+	 * @param timeExps 维表的时间更新键数组
+	 * @param opt 选项
 	 */
 	public Operable switchFk(Function function, String[] fkNames, String[] timeFkNames, Sequence[] codes, Expression[] exps, Expression[] timeExps, String opt, Context ctx) {
 		for (ICursor subCursor : cursors) {
@@ -825,9 +825,9 @@ public class MultipathCursors extends ICursor implements IMultipath {
 	}
 
 	/**
-	 * һ뵱ǰαƥĹܵ
-	 * @param ctx 
-	 * @param doPush Ƿαpush
+	 * 创建一个与当前游标相匹配的管道
+	 * @param ctx 计算上下文
+	 * @param doPush 是否对游标生成push操作
 	 * @return Channel
 	 */
 	public Channel newChannel(Context ctx, boolean doPush) {
@@ -14,34 +14,34 @@ import com.scudata.dm.Table;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ļ¼ڼļеλùα
+ * 按给定的记录在集文件中的位置构建游标
  * @author RunQian
  *
  */
 public class PFileCursor extends ICursor {
-	private FileObject fo; // ļ
-	private long []pos; // ¼ڼļеλ
-	private int bufSize; // ļõĻС
-	private String []selFields; // ѡֶ
+	private FileObject fo; // 集文件对象
+	private long []pos; // 记录在集文件中的位置
+	private int bufSize; // 读文件用的缓冲区大小
+	private String []selFields; // 选出字段
 	
-	private BFileReader reader; // ļȡ
-	private DataStruct ds; // Դļݽṹ
-	private DataStruct selDs; // ݽṹ
-	private int []selIndex; // Դṹÿֶڽṹе
-	private int index = 0; // ǰҪļ¼
+	private BFileReader reader; // 集文件读取器
+	private DataStruct ds; // 源文件数据结构
+	private DataStruct selDs; // 结果集数据结构
+	private int []selIndex; // 源结构的每个字段在结果集结构中的序号
+	private int index = 0; // 当前要读的记录的序号
 	
-	// skipҪ
-	private boolean isSorted = false; // λǷ
-	private boolean isEnd = false; // Ƿȡ
+	// 如果skip所有则不需要排序
+	private boolean isSorted = false; // 位置数组是否已排序
+	private boolean isEnd = false; // 是否取数结束
 	
 	/**
-	 * ȡָλü¼α
-	 * @param fo ļ
-	 * @param pos ¼λ
-	 * @param bufSize ļõĻĴС
-	 * @param fields ѡֶ
-	 * @param opt ѡu¼λûаմСĬź
-	 * @param ctx 
+	 * 构建读取指定位置记录的游标
+	 * @param fo 集文件对象
+	 * @param pos 记录位置数组
+	 * @param bufSize 读文件用的缓冲区的大小
+	 * @param fields 选出字段名数组
+	 * @param opt 选项，u：记录位置数组没有按照从小到大排序，默认是排好序的
+	 * @param ctx 计算上下文
 	 */
 	public PFileCursor(FileObject fo, long []pos, int bufSize, String []fields, String opt, Context ctx) {
 		this.fo = fo;
@@ -56,8 +56,8 @@ public class PFileCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -163,9 +163,9 @@ public class PFileCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (n < 1) {
@@ -190,7 +190,7 @@ public class PFileCursor extends ICursor {
 	}
 	
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public void close() {
 		super.close();
@@ -215,8 +215,8 @@ public class PFileCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
@@ -10,20 +10,20 @@ import com.scudata.dm.Table;
 import com.scudata.resources.EngineMessage;
 
 /**
- * λöαйα
+ * 按位置对游标进行关联的游标
  * @author RunQian
  *
  */
 public class PJoinCursor extends ICursor {
-	private ICursor []cursors; // α
-	private String []names; // ֶ
-	private DataStruct ds; // ݽṹ
-	private boolean isEnd = false; // Ƿȡ
+	private ICursor []cursors; // 游标数组
+	private String []names; // 字段名数组
+	private DataStruct ds; // 结果集数据结构
+	private boolean isEnd = false; // 是否取数结束
 
 	/**
-	 * λùα
-	 * @param cursors α
-	 * @param names ֶ
+	 * 构建按位置关联游标
+	 * @param cursors 游标数组
+	 * @param names 字段名数组
 	 */
 	public PJoinCursor(ICursor []cursors, String []names) {
 		this.cursors = cursors;
@@ -36,15 +36,15 @@ public class PJoinCursor extends ICursor {
 	}
 	
 	/**
-	 * λùα
-	 * @param cursors α
+	 * 构建按位置关联游标
+	 * @param cursors 游标数组
 	 */
 	public PJoinCursor(ICursor []cursors) {
 		this(cursors, null);
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			for (ICursor cursor : cursors) {
@@ -83,8 +83,8 @@ public class PJoinCursor extends ICursor {
 	}
 	
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -147,9 +147,9 @@ public class PJoinCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (isEnd || n < 1) return 0;
@@ -171,7 +171,7 @@ public class PJoinCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -185,8 +185,8 @@ public class PJoinCursor extends ICursor {
 	}
 
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
@@ -0,0 +1,170 @@
+package com.scudata.dm.cursor;
+
+import com.scudata.dm.Context;
+import com.scudata.dm.Sequence;
+import com.scudata.thread.ThreadPool;
+
+/**
+ * 预读游标，用单独的线程从源游标读取下一批数据，调用者处理当前数据时下一批数据已经在读了
+ * 用于数据库等读数据时要等待的游标，每个预读游标使用自己的线程，关闭时结束线程
+ * @author RunQian
+ *
+ */
+public class PrefetchCursor extends ICursor {
+	private ICursor cursor; // 源游标
+	private int fetchCount; // 每次预读的数量
+
+	private ThreadPool threadPool;
+	private CursorReader reader;
+	private Sequence cache; // 预读的数据中还没有被取走的部分
+
+	/**
+	 * 创建预读游标
+	 * @param cursor 源游标
+	 * @param fetchCount 每次预读的数量
+	 * @param ctx 计算上下文
+	 */
+	public PrefetchCursor(ICursor cursor, int fetchCount, Context ctx) {
+		this.cursor = cursor;
+		this.fetchCount = fetchCount;
+		this.ctx = ctx;
+		setDataStruct(cursor.getDataStruct());
+	}
+
+	// 取下一批预读的数据，没有数据了返回null
+	private Sequence nextBatch() {
+		if (cache != null) {
+			Sequence seq = cache;
+			cache = null;
+			return seq;
+		}
+
+		if (reader == null) {
+			if (cursor == null) {
+				return null;
+			}
+
+			threadPool = ThreadPool.newSpecifiedInstance(1);
+			reader = new CursorReader(threadPool, cursor, fetchCount);
+		}
+
+		Sequence seq = reader.getTable();
+		if (seq == null || seq.length() == 0) {
+			close();
+			return null;
+		} else {
+			return seq;
+		}
+	}
+
+	/**
+	 * 读取指定条数的数据返回
+	 * @param n 数量
+	 * @return Sequence
+	 */
+	protected Sequence get(int n) {
+		if (n < 1) {
+			return null;
+		}
+
+		Sequence result = nextBatch();
+		if (result == null) {
+			return null;
+		}
+
+		int len = result.length();
+		if (len > n) {
+			cache = result.split(n + 1);
+			return result;
+		} else if (len == n) {
+			return result;
+		}
+
+		// 数据不够则继续取，使用新的序列防止改变预读的序列
+		if (n > INITSIZE) {
+			Sequence seq = new Sequence(INITSIZE);
+			seq.addAll(result);
+			result = seq;
+		} else {
+			Sequence seq = new Sequence(n);
+			seq.addAll(result);
+			result = seq;
+		}
+
+		while (len < n) {
+			Sequence cur = nextBatch();
+			if (cur == null) {
+				break;
+			}
+
+			int curLen = cur.length();
+			if (len + curLen > n) {
+				cache = cur.split(n - len + 1);
+				curLen = n - len;
+			}
+
+			result.addAll(cur);
+			len += curLen;
+		}
+
+		return result;
+	}
+
+	/**
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
+	 */
+	protected long skipOver(long n) {
+		long count = 0;
+		while (count < n) {
+			Sequence cur = nextBatch();
+			if (cur == null) {
+				break;
+			}
+
+			int curLen = cur.length();
+			if (count + curLen > n) {
+				cache = cur.split((int)(n - count) + 1);
+				return n;
+			}
+
+			count += curLen;
+		}
+
+		return count;
+	}
+
+	/**
+	 * 关闭游标，等待预读结束后关闭源游标
+	 */
+	public synchronized void close() {
+		super.close();
+		if (reader != null) {
+			try {
+				reader.getCatch();
+			} catch (RuntimeException e) {
+			}
+
+			reader = null;
+			threadPool.shutdown();
+			threadPool = null;
+		}
+
+		if (cursor != null) {
+			cursor.close();
+			cursor = null;
+		}
+
+		cache = null;
+	}
+
+	/**
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
+	 */
+	public boolean reset() {
+		close();
+		return false;
+	}
+}
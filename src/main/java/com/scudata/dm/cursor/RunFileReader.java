@@ -0,0 +1,259 @@
+package com.scudata.dm.cursor;
+
+import java.io.IOException;
+
+import com.scudata.array.IArray;
+import com.scudata.common.RQException;
+import com.scudata.dm.DataStruct;
+import com.scudata.dm.FileObject;
+import com.scudata.dm.ObjectReader;
+import com.scudata.dm.Record;
+import com.scudata.dm.RunFileWriter;
+import com.scudata.dw.BufferReader;
+import com.scudata.dw.LZ4Util;
+import com.scudata.dw.StructManager;
+import com.scudata.thread.Job;
+import com.scudata.thread.ThreadPool;
+import com.scudata.util.ILoserTreeNode;
+import com.scudata.util.ILoserTreeRunNode;
+import com.scudata.util.Variant;
+
+/**
+ * 读取RunFileWriter写出的外存排序临时文件，作为败者树的一路参与归并
+ * 当前块被取走时把读下一块的任务提交给线程池，读文件、解压和解码跟归并同时进行
+ * @author RunQian
+ *
+ */
+class RunFileReader extends Job implements ILoserTreeRunNode {
+	private FileObject file; // 临时文件
+	private DataStruct ds; // 记录的数据结构
+	private int keyCount; // 排序字段数
+	private StructManager structManager;
+	private boolean isNullMin = true; // null是否当最小值
+	private int bufSize; // 读文件的缓冲区大小
+
+	private ThreadPool threadPool;
+	private ObjectReader reader;
+	private byte []buffer; // 压缩的数据
+	private byte []rawBuffer; // 解压后的数据
+
+	private Object [][]rows; // 当前块的行
+	private int count; // 当前块的行数
+	private int seq; // 当前行在块中的序号，-1表示数据已取完
+	private Object []values; // 当前行
+
+	private Object [][]nextRows; // 预读的块
+	private int nextCount; // 预读的块的行数，0表示文件已读完
+	private boolean isReading; // 是否已提交了预读任务
+
+	/**
+	 * 构建临时文件读对象
+	 * @param writer 写临时文件的对象，已经关闭
+	 * @param isNullMin null是否当最小值
+	 * @param bufSize 读文件的缓冲区大小
+	 */
+	public RunFileReader(RunFileWriter writer, boolean isNullMin, int bufSize) {
+		this.file = writer.getFile();
+		this.ds = writer.getDataStruct();
+		this.keyCount = writer.getKeyCount();
+		this.structManager = writer.getStructManager();
+		this.isNullMin = isNullMin;
+		this.bufSize = bufSize;
+	}
+
+	/**
+	 * 打开文件并读入第一块，然后开始预读下一块
+	 * @param threadPool 预读使用的线程池
+	 */
+	public void open(ThreadPool threadPool) {
+		this.threadPool = threadPool;
+		reader = new ObjectReader(file.getInputStream(), bufSize);
+		run();
+
+		if (nextCount > 0) {
+			swapBlock();
+		} else {
+			seq = -1;
+			close();
+		}
+	}
+
+	// 把预读的块作为当前块，如果还有数据则继续预读
+	private void swapBlock() {
+		rows = nextRows;
+		count = nextCount;
+		seq = 0;
+		values = rows[0];
+		nextRows = null;
+
+		isReading = true;
+		threadPool.submit(this);
+	}
+
+	/**
+	 * 被线程池里的线程调用，读入下一块
+	 */
+	public void run() {
+		try {
+			ObjectReader reader = this.reader;
+			int count = reader.readInt32();
+			nextCount = count;
+			if (count == 0) {
+				reader.close();
+				this.reader = null;
+				return;
+			}
+
+			int rawLen = reader.readInt32();
+			int len = reader.readInt32();
+			buffer = LZ4Util.ensureCapacity(buffer, len);
+			rawBuffer = LZ4Util.ensureCapacity(rawBuffer, rawLen);
+			reader.readFully(buffer, 0, len);
+			LZ4Util.instance().decompress(buffer, 0, rawBuffer, rawLen);
+
+			int keyCount = this.keyCount;
+			DataStruct ds = this.ds;
+			int fcount = ds.getFieldCount();
+			BufferReader bufferReader = new BufferReader(structManager, rawBuffer, 0, rawLen);
+			Object [][]rows = new Object[count][];
+			for (int i = 0; i < count; ++i) {
+				rows[i] = new Object[keyCount + 1];
+			}
+
+			for (int k = 0; k < keyCount; ++k) {
+				for (int i = 0; i < count; ++i) {
+					rows[i][k] = bufferReader.readObject();
+				}
+			}
+
+			Record []records = new Record[count];
+			for (int i = 0; i < count; ++i) {
+				records[i] = new Record(ds);
+				rows[i][keyCount] = records[i];
+			}
+
+			for (int f = 0; f < fcount; ++f) {
+				for (int i = 0; i < count; ++i) {
+					records[i].setNormalFieldValue(f, bufferReader.readObject());
+				}
+			}
+
+			nextRows = rows;
+		} catch (IOException e) {
+			throw new RQException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 弹出当前行，返回排序字段值和记录组成的数组
+	 * @return Object[]
+	 */
+	public Object popCurrent() {
+		Object []row = values;
+		rows[seq] = null;
+		if (++seq < count) {
+			values = rows[seq];
+		} else {
+			join();
+			isReading = false;
+			if (nextCount > 0) {
+				swapBlock();
+			} else {
+				seq = -1;
+				values = null;
+				rows = null;
+				close();
+			}
+		}
+
+		return row;
+	}
+
+	/**
+	 * 从当前行开始弹出不大于挑战者当前行的连续行，追加的是行对应的记录
+	 */
+	public int popRun(ILoserTreeNode challenger, boolean isPrior, IArray result, int n) {
+		Object [][]rows = this.rows;
+		int start = seq;
+		int end = start + n;
+		if (end > count) {
+			end = count;
+		}
+
+		// 第一行已经胜出，从下一行开始跟挑战者比较
+		int i = start + 1;
+		if (challenger != null) {
+			for (; i < end; ++i) {
+				values = rows[i];
+				int cmp = compareTo(challenger);
+				if (cmp > 0 || (cmp == 0 && !isPrior)) {
+					break;
+				}
+			}
+		} else {
+			i = end;
+		}
+
+		int keyCount = this.keyCount;
+		result.ensureCapacity(result.size() + i - start);
+		for (int q = start; q < i; ++q) {
+			result.push(rows[q][keyCount]);
+			rows[q] = null;
+		}
+
+		if (i < count) {
+			seq = i;
+			values = rows[i];
+		} else {
+			seq = count - 1;
+			popCurrent();
+		}
+
+		return i - start;
+	}
+
+	public boolean hasNext() {
+		return seq != -1;
+	}
+
+	public int compareTo(ILoserTreeNode other) {
+		if (isNullMin) {
+			return Variant.compareArrays(values, ((RunFileReader)other).values, keyCount);
+		} else {
+			return Variant.compareArrays_0(values, ((RunFileReader)other).values, keyCount);
+		}
+	}
+
+	/**
+	 * 关闭并删除临时文件
+	 */
+	public void close() {
+		if (isReading) {
+			// 等待预读结束再关闭文件
+			isReading = false;
+			try {
+				join();
+			} catch (RuntimeException e) {
+			}
+		}
+
+		if (reader != null) {
+			try {
+				reader.close();
+			} catch (IOException e) {
+			}
+
+			reader = null;
+		}
+
+		if (file != null) {
+			file.delete();
+			file = null;
+		}
+
+		rows = null;
+		nextRows = null;
+		buffer = null;
+		rawBuffer = null;
+	}
+}
@@ -0,0 +1,224 @@
+package com.scudata.dm.cursor;
+
+import com.scudata.common.Logger;
+import com.scudata.common.MessageManager;
+import com.scudata.common.RQException;
+import com.scudata.dm.Context;
+import com.scudata.dm.Env;
+import com.scudata.dm.FileObject;
+import com.scudata.dm.RunFileWriter;
+import com.scudata.dm.Sequence;
+import com.scudata.resources.EngineMessage;
+import com.scudata.thread.ThreadPool;
+import com.scudata.util.LoserTree;
+
+/**
+ * 用败者树对外存排序产生的有序临时文件做多路归并的游标
+ * 临时文件由RunFileWriter写出，归并时直接比较文件中保存的排序字段值，不再计算排序表达式
+ * 每一路在当前块被取走时预读下一块，取完或者游标关闭时删除临时文件
+ * 预读用归并自己的线程池，归并本身可能在公共线程池的线程里执行，等公共线程池预读可能会死锁
+ * @author RunQian
+ *
+ */
+public class RunMergeCursor extends ICursor {
+	public static final int MAX_MERGE_COUNT = 128; // 一次归并的最大文件数，超过时先分批归并
+	
+	private RunFileWriter []runs; // 临时文件，已经写完
+	private boolean isNullMin = true; // null是否当最小值
+
+	private RunFileReader []readers;
+	private LoserTree loserTree;
+	private ThreadPool threadPool; // 预读临时文件的线程池
+
+	/**
+	 * 构建归并游标
+	 * @param runs 临时文件，每个文件内按排序字段有序
+	 * @param isNullMin null是否当最小值
+	 * @param ctx 计算上下文
+	 */
+	public RunMergeCursor(RunFileWriter []runs, boolean isNullMin, Context ctx) {
+		this.runs = runs;
+		this.isNullMin = isNullMin;
+		this.ctx = ctx;
+		setDataStruct(runs[0].getDataStruct());
+
+		if (ctx != null) {
+			ctx.addResource(this);
+		}
+	}
+
+	// 打开所有的临时文件构建败者树
+	private static LoserTree createLoserTree(RunFileWriter []runs, RunFileReader []readers, 
+			boolean isNullMin, ThreadPool threadPool) {
+		int count = runs.length;
+		int bufSize = Env.getMergeFileBufSize(count);
+		for (int i = 0; i < count; ++i) {
+			readers[i] = new RunFileReader(runs[i], isNullMin, bufSize);
+		}
+
+		for (int i = 0; i < count; ++i) {
+			readers[i].open(threadPool);
+		}
+
+		// 败者树会调整节点的位置，传入数组的复本
+		return new LoserTree(readers.clone());
+	}
+
+	/**
+	 * 把多个有序的临时文件归并成一个，用于临时文件太多时分批归并，源文件归并后被删除
+	 * @param runs 临时文件
+	 * @param isNullMin null是否当最小值
+	 * @return 归并产生的临时文件
+	 */
+	public static RunFileWriter merge(RunFileWriter []runs, boolean isNullMin) {
+		FileObject fo = FileObject.createTempFileObject();
+		MessageManager mm = EngineMessage.get();
+		Logger.info(mm.getMessage("engine.createTmpFile") + fo.getFileName());
+
+		RunFileWriter writer = new RunFileWriter(fo, runs[0].getDataStruct(), runs[0].getKeyCount());
+		RunFileReader []readers = new RunFileReader[runs.length];
+		ThreadPool threadPool = ThreadPool.newInstance(runs.length);
+
+		try {
+			LoserTree loserTree = createLoserTree(runs, readers, isNullMin, threadPool);
+			while (loserTree.hasNext()) {
+				writer.write((Object[])loserTree.pop());
+			}
+
+			writer.close();
+			return writer;
+		} catch (RuntimeException e) {
+			writer.delete();
+			throw e;
+		} finally {
+			for (RunFileReader reader : readers) {
+				if (reader != null) {
+					reader.close();
+				}
+			}
+
+			// 读对象关闭时已经等预读结束了
+			threadPool.shutdown();
+		}
+	}
+
+	// 第一次取数时打开临时文件
+	private boolean init() {
+		if (loserTree != null) {
+			return true;
+		} else if (runs == null) {
+			return false;
+		}
+
+		readers = new RunFileReader[runs.length];
+		threadPool = ThreadPool.newInstance(runs.length);
+		try {
+			loserTree = createLoserTree(runs, readers, isNullMin, threadPool);
+			return true;
+		} catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 读取指定条数的数据返回
+	 * @param n 数量
+	 * @return Sequence
+	 */
+	protected Sequence get(int n) {
+		if (n < 1 || !init()) {
+			return null;
+		}
+
+		LoserTree loserTree = this.loserTree;
+		if (!loserTree.hasNext()) {
+			return null;
+		}
+
+		Sequence table;
+		if (n > INITSIZE) {
+			table = new Sequence(INITSIZE);
+		} else {
+			table = new Sequence(n);
+		}
+
+		try {
+			loserTree.pop(table, n);
+		} catch (RQException e) {
+			close();
+			throw e;
+		}
+
+		return table;
+	}
+
+	/**
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
+	 */
+	protected long skipOver(long n) {
+		if (n < 1 || !init()) {
+			return 0;
+		}
+
+		LoserTree loserTree = this.loserTree;
+		long count = 0;
+		try {
+			for (; count < n && loserTree.hasNext(); ++count) {
+				loserTree.pop();
+			}
+		} catch (RQException e) {
+			close();
+			throw e;
+		}
+
+		return count;
+	}
+
+	/**
+	 * 关闭游标，删除临时文件
+	 */
+	public synchronized void close() {
+		super.close();
+
+		if (readers != null) {
+			for (RunFileReader reader : readers) {
+				if (reader != null) {
+					reader.close();
+				}
+			}
+		} else if (runs != null) {
+			for (RunFileWriter run : runs) {
+				run.getFile().delete();
+			}
+		}
+
+		if (threadPool != null) {
+			threadPool.shutdown();
+		}
+
+		if (runs != null && ctx != null) {
+			ctx.removeResource(this);
+		}
+
+		runs = null;
+		readers = null;
+		loserTree = null;
+		threadPool = null;
+	}
+
+	protected void finalize() throws Throwable {
+		close();
+	}
+
+	/**
+	 * 重置游标，临时文件已删除，不能从头重新取数
+	 * @return false
+	 */
+	public boolean reset() {
+		close();
+		return false;
+	}
+}
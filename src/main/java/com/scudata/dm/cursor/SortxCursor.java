@@ -7,24 +7,24 @@ import com.scudata.dm.Sequence;
 import com.scudata.expression.Expression;
 
 /**
- * ÿļеΪһα
- * cs.sortx@n(...;n) 
+ * 对每个文件进行单独排序，纵向连接做为一个游标
+ * 用于cs.sortx@n(...;n) 按组进行排序
  * @author RunQian
  *
  */
 public class SortxCursor extends ICursor {
-	private FileObject []files; // ʱļ
-	private int fileIndex = -1; // ǰļ
-	private Expression[] sortExps; // ʽ
+	private FileObject []files; // 临时集文件数组
+	private int fileIndex = -1; // 当前读到的文件的序号
+	private Expression[] sortExps; // 排序表达式
 	
-	private MemoryCursor cursor; // ǰļ󴴽ڴα
+	private MemoryCursor cursor; // 当前文件排序后创建的内存游标
 	
 	/**
-	 * ÿļеΪһα
-	 * @param files ʱļ
-	 * @param sortExps ʽ
-	 * @param ds ݽṹ
-	 * @param ctx 
+	 * 对每个文件进行单独排序，纵向连接做为一个游标
+	 * @param files 临时集文件数组
+	 * @param sortExps 排序表达式数组
+	 * @param ds 结果集数据结构
+	 * @param ctx 计算上下文
 	 */
 	public SortxCursor(FileObject []files, Expression[] sortExps, DataStruct ds, Context ctx) {
 		this.files = files;
@@ -33,15 +33,15 @@ public class SortxCursor extends ICursor {
 		setDataStruct(ds);
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		this.ctx = ctx;
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -86,9 +86,9 @@ public class SortxCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (files == null || n < 1) return 0;
@@ -118,7 +118,7 @@ public class SortxCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -136,8 +136,8 @@ public class SortxCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		return false;
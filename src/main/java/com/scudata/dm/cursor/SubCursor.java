@@ -4,19 +4,19 @@ import com.scudata.dm.Context;
 import com.scudata.dm.Sequence;
 
 /**
- * α꣬ڴӸαȡָ
+ * 子游标，用于从给定游标中取指定总数量
  * @author RunQian
  *
  */
 public class SubCursor extends ICursor {
-	private ICursor cursor; // Դα
-	private int count; // ȡ¼
-	private int total; // Ҫȡܼ¼
+	private ICursor cursor; // 源游标
+	private int count; // 已取记录数
+	private int total; // 需要取的总记录数
 	
 	/**
-	 * α
-	 * @param cursor Դα
-	 * @param total Ҫȡݵ
+	 * 创建子游标
+	 * @param cursor 源游标
+	 * @param total 要取的数据的总数量
 	 */
 	public SubCursor(ICursor cursor, int total) {
 		this.cursor = cursor;
@@ -24,8 +24,8 @@ public class SubCursor extends ICursor {
 		setDataStruct(cursor.getDataStruct());
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			cursor.resetContext(ctx);
@@ -34,8 +34,8 @@ public class SubCursor extends ICursor {
 	}
 
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -55,9 +55,9 @@ public class SubCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (cursor == null || n < 1) return 0;
@@ -73,7 +73,7 @@ public class SubCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
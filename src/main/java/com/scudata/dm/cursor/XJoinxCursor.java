@@ -12,30 +12,30 @@ import com.scudata.dm.op.Select;
 import com.scudata.expression.Expression;
 
 /**
- * ڶα
- * xjoinx(csi:Fi,xi;)
+ * 用于对游标做叉乘
+ * xjoinx(csi:Fi,xi;…)
  * @author RunQian
  *
  */
 public class XJoinxCursor extends ICursor {
-	private ICursor []cursors; // α
-	private Expression []exps; // ˱ʽ
-	private DataStruct ds; // ݽṹ
-	private boolean isLeft = false; // Ƿ
-	private boolean isEnd = false; // Ƿȡ
+	private ICursor []cursors; // 游标数组
+	private Expression []exps; // 过滤表达式
+	private DataStruct ds; // 结果集数据结构
+	private boolean isLeft = false; // 是否左链接
+	private boolean isEnd = false; // 是否取数结束
 
-	private Sequence []tables; // ÿαȡݻ
-	private int []currents; // ÿα굱ǰ
-	private Record record; // ڼ
+	private Sequence []tables; // 每个游标取出的数据缓存
+	private int []currents; // 每个游标当前缓存遍历的序号
+	private Record record; // 用于计算
 
 	/**
-	 * α
-	 * @param cursors α
-	 * @param exps ˱ʽ
-	 * @param names ֶ
-	 * @param fltOpts ѡ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 构建叉乘游标
+	 * @param cursors 游标数组
+	 * @param exps 过滤表达式
+	 * @param names 字段名数组
+	 * @param fltOpts 过滤选项
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public XJoinxCursor(ICursor []cursors, Expression []exps, String []names, String[] fltOpts, String opt, Context ctx) {
 		this.cursors = cursors;
@@ -58,8 +58,8 @@ public class XJoinxCursor extends ICursor {
 		}
 	}
 	
-	// мʱҪı
-	// ̳õ˱ʽҪ½ʽ
+	// 并行计算时需要改变上下文
+	// 继承类如果用到了表达式还需要用新上下文重新解析表达式
 	public void resetContext(Context ctx) {
 		if (this.ctx != ctx) {
 			for (ICursor cursor : cursors) {
@@ -214,8 +214,8 @@ public class XJoinxCursor extends ICursor {
 	}
 	
 	/**
-	 * ȡָݷ
-	 * @param n 
+	 * 读取指定条数的数据返回
+	 * @param n 数量
 	 * @return Sequence
 	 */
 	protected Sequence get(int n) {
@@ -254,9 +254,9 @@ public class XJoinxCursor extends ICursor {
 	}
 
 	/**
-	 * ָ
-	 * @param n 
-	 * @return long ʵ
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
 	 */
 	protected long skipOver(long n) {
 		if (isEnd || n < 1) return 0;
@@ -280,7 +280,7 @@ public class XJoinxCursor extends ICursor {
 	}
 
 	/**
-	 * رα
+	 * 关闭游标
 	 */
 	public synchronized void close() {
 		super.close();
@@ -296,8 +296,8 @@ public class XJoinxCursor extends ICursor {
 	}
 	
 	/**
-	 * α
-	 * @return ǷɹtrueαԴͷȡfalseԴͷȡ
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
 	 */
 	public boolean reset() {
 		close();
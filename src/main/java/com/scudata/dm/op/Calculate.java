@@ -6,25 +6,25 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.Function;
 
 /**
- * αܵӳټ㴦
+ * 游标或管道的延迟计算处理类
  * @author RunQian
  *
  */
 public class Calculate extends Operation {
-	private Expression exp; // ʽ
+	private Expression exp; // 计算表达式
 
 	/**
-	 * 
-	 * @param exp ʽ
+	 * 构造计算类
+	 * @param exp 计算表达式
 	 */
 	public Calculate(Expression exp) {
 		this(null, exp);
 	}
 	
 	/**
-	 * 
-	 * @param function ǰӦıʽĺ
-	 * @param exp ʽ
+	 * 构造计算类
+	 * @param function 当前操作对应的表达式里的函数
+	 * @param exp 计算表达式
 	 */
 	public Calculate(Function function, Expression exp) {
 		super(function);
@@ -32,8 +32,8 @@ public class Calculate extends Operation {
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -42,9 +42,9 @@ public class Calculate extends Operation {
 	}
 	
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -10,30 +10,30 @@ import com.scudata.dm.cursor.ICursor;
 import com.scudata.expression.Expression;
 
 /**
- * ܵ󣬹ܵԸӶ㣬ֻܶһֽ
+ * 管道对象，管道可以附加多种运算，但只能定义一种结果集运算
  * @author WangXiaoJun
  *
  */
 public class Channel extends Operable implements IPipe {
-	protected Context ctx; // ö߳αȡʱҪĲ½ʽ
-	private ArrayList<Operation> opList; // Ӳб
-	protected IResult result; // ܵյĽ
+	protected Context ctx; // 用多线程游标取数时需要更改上下文并重新解析表达式
+	private ArrayList<Operation> opList; // 附加操作列表
+	protected IResult result; // 管道最终的结果集函数
 	
-	// ʽsum(...)+sum(...)Ļgroups(...).new(...)ڴźnew
+	// 分组表达式里如果有sum(...)+sum(...)这样的汇总项会变成groups(...).new(...)，用于存放后面的new
 	protected New resultNew;
 	
 	/**
-	 * ܵ
-	 * @param ctx 
+	 * 构建管道
+	 * @param ctx 计算上下文
 	 */
 	public Channel(Context ctx) {
 		this.ctx = ctx;
 	}
 	
 	/**
-	 * α깹ܵαݽƸ˹ܵ
-	 * @param ctx 
-	 * @param cs α
+	 * 用游标构建管道，游标的数据将会推给此管道
+	 * @param ctx 计算上下文
+	 * @param cs 游标
 	 */
 	public Channel(Context ctx, ICursor cs) {
 		this.ctx = ctx;
@@ -42,7 +42,7 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * αpushݵܵĲ
+	 * 给游标添加push数据到管道的操作
 	 * @param cs
 	 */
 	public void addPushToCursor(ICursor cs) {
@@ -51,9 +51,9 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * Ϊܵ
-	 * @param op 
-	 * @param ctx 
+	 * 为管道附加运算
+	 * @param op 运算
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable addOperation(Operation op, Context ctx) {
@@ -69,18 +69,18 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * ǷѾн
+	 * 检查是否已经有结果集函数了
 	 */
 	protected void checkResultChannel() {
 		if (result != null) {
-			throw new RQException("ӽ֮ټ");
+			throw new RQException("附加结果集之后不能再继续附加其它运算");
 		}
 	}
 	
 	/**
-	 * ܵݣܻжԴͬʱܵ
-	 * @param seq 
-	 * @param ctx 
+	 * 往管道推送数据，可能会有多个源同时往管道推送数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	public synchronized void push(Sequence seq, Context ctx) {
 		if (opList != null) {
@@ -99,8 +99,8 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * ͽʱãЩӵĲỺݣҪfinishĴ
-	 * @param ctx 
+	 * 数据推送结束时调用，有些附加的操作会缓存数据，需要调用finish进行最后的处理
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
 		if (opList == null) {
@@ -133,7 +133,7 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * عܵļ
+	 * 返回管道的计算结果
 	 * @return
 	 */
 	public Object result() {
@@ -155,7 +155,7 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * ܵǰΪ
+	 * 保留管道当前数据做为结果集
 	 * @return this
 	 */
 	public Channel fetch() {
@@ -165,8 +165,8 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * ܵǰݵļ
-	 * @param file ļ
+	 * 保留管道当前数据到集文件
+	 * @param file 集文件
 	 * @return this
 	 */
 	public Channel fetch(FileObject file) {
@@ -176,12 +176,12 @@ public class Channel extends Operable implements IPipe {
 	}
 
 	/**
-	 * Թܵǰݽз㲢Ϊ
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param calcExps ܱʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
+	 * 对管道当前数据进行分组运算并做为结果集
+	 * @param exps 分组表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总表达式数组
+	 * @param calcNames 汇总字段名
+	 * @param opt 选项
 	 * @return
 	 */
 	public Channel groups(Expression[] exps, String[] names,
@@ -192,8 +192,8 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * Թܵǰݽл㲢Ϊ
-	 * @param calcExps ܱʽ
+	 * 对管道当前数据进行汇总运算并做为结果集
+	 * @param calcExps 汇总表达式
 	 * @return
 	 */
 	public Channel total(Expression[] calcExps) {
@@ -203,13 +203,13 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * Թܵǰݽ㲢Ϊ
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param calcExps ܱʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param capacity ڴԴŵķ
+	 * 对管道当前数据进行外存分组运算并做为结果集
+	 * @param exps 分组表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总表达式数组
+	 * @param calcNames 汇总字段名
+	 * @param opt 选项
+	 * @param capacity 内存可以存放的分组结果数量
 	 * @return
 	 */
 	public Channel groupx(Expression[] exps, String[] names,
@@ -220,10 +220,10 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * Թܵǰݽ㲢Ϊ
-	 * @param exps ʽ
-	 * @param capacity ڴԴŵļ¼
-	 * @param opt ѡ
+	 * 对管道当前数据进行外存排序运算并做为结果集
+	 * @param exps 排序表达式数组
+	 * @param capacity 内存可以存放的记录数量
+	 * @param opt 选项
 	 * @return
 	 */
 	public Channel sortx(Expression[] exps, int capacity, String opt) {
@@ -233,7 +233,7 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * Թܵǰݽ㲢Ϊ
+	 * 对管道当前数据进行连接运算并做为结果集
 	 * @param fields
 	 * @param fileTable
 	 * @param keys
@@ -253,11 +253,11 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * Թܵǰݽе㲢Ϊ
-	 * @param exp ʽ
-	 * @param initVal ʼֵ
-	 * @param c ʽcΪǰ
-	 * @param ctx 
+	 * 对管道当前数据进行迭代运算并作为结果集
+	 * @param exp 迭代表达式
+	 * @param initVal 初始值
+	 * @param c 条件表达式，迭代过程中c为真则提前结束
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Channel iterate(Expression exp, Object initVal, Expression c, Context ctx) {
@@ -267,10 +267,10 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * Թܵǰݽȥ㲢Ϊ
-	 * @param exps ȥرʽ
-	 * @param count Ľ
-	 * @param opt ѡ
+	 * 对管道当前数据进行去重运算并作为结果集
+	 * @param exps 去重表达式
+	 * @param count 保留的结果数
+	 * @param opt 选项
 	 * @return
 	 */
 	public Channel id(Expression []exps, int count, String opt) {
@@ -280,7 +280,7 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * ȡܵĽ
+	 * 取管道的结果对象
 	 * @return IResult
 	 */
 	public IResult getResult() {
@@ -288,15 +288,15 @@ public class Channel extends Operable implements IPipe {
 	}
 	
 	/**
-	 * groupsֶβǵľۺϱҪnewһ
-	 * @param op new
+	 * groups运算如果汇总字段不是单纯的聚合表达，最后需要再new一下
+	 * @param op new操作
 	 */
 	public void setResultNew(New op) {
 		resultNew = op;
 	}
 	
 	/**
-	 * ȡ
+	 * 取计算上下文
 	 * @return Context
 	 */
 	public Context getContext() {
@@ -8,7 +8,7 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.Function;
 
 /**
- * αܵϵк
+ * 附加在游标或管道上的序列和列运算
  * @author WangXiaoJun
  *
  */
@@ -16,17 +16,17 @@ public class Conj extends Operation {
 	private Expression newExp;
 
 	/**
-	 * ȡԱ
-	 * @param newExp ʽ
+	 * 构造取成员和列类
+	 * @param newExp 计算表达式
 	 */
 	public Conj(Expression newExp) {
 		this(null, newExp);
 	}
 	
 	/**
-	 * ȡԱ
-	 * @param function ǰӦıʽĺ
-	 * @param newExp ʽ
+	 * 构造取成员和列类
+	 * @param function 当前操作对应的表达式里的函数
+	 * @param newExp 计算表达式
 	 */
 	public Conj(Function function, Expression newExp) {
 		super(function);
@@ -34,8 +34,8 @@ public class Conj extends Operation {
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -44,9 +44,9 @@ public class Conj extends Operation {
 	}
 
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
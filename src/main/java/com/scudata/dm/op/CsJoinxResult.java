@@ -17,8 +17,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CursorUtil;
 
 /**
- * лӵĽ
- * cs.joinx(C:,f:K:,x:F,;;;n)
+ * 处理数据与排列或者外存表做连接的结果集运算
+ * cs.joinx(C:…,f:K:…,x:F,…;…;…;n)
  * @author RunQian
  *
  */
@@ -50,9 +50,9 @@ public class CsJoinxResult implements IResult {
 	}
 	
 	/**
-	 * ͹ݣۻյĽ
-	 * @param seq 
-	 * @param ctx 
+	 * 处理推送过来的数据，累积到最终的结果上
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	public void push(Sequence table, Context ctx) {
 		try {
@@ -94,7 +94,7 @@ public class CsJoinxResult implements IResult {
 	}
 	
 	/**
-	 * ȡα
+	 * 取结果集游标
 	 * @return ICursor
 	 */
 	public ICursor getResultCursor() {
@@ -134,14 +134,14 @@ public class CsJoinxResult implements IResult {
 	}
 	
 	/**
-	 * ͽʱ
-	 * @param ctx 
+	 * 数据推送结束时调用
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
 	}
 	
 	 /**
-	  * ͽȡյļ
+	  * 数据推送结束，取最终的计算结果
 	  * @return
 	  */
 	public Object result() {
@@ -149,7 +149,7 @@ public class CsJoinxResult implements IResult {
 	}
 	
 	/**
-	 * ִ֧˺
+	 * 不支持此函数
 	 */
 	public Object combineResult(Object []results) {
 		throw new RuntimeException();
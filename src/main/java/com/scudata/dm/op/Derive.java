@@ -10,18 +10,18 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵӳֶδ
+ * 游标或管道的延迟派生字段处理类
  * @author RunQian
  *
  */
 public class Derive extends Operation  {
-	private Expression[] exps; // ֶεıʽ
-	private String[] names; // ֶεֶ
-	private String opt; // ѡ
+	private Expression[] exps; // 派生字段的表达式数组
+	private String[] names; // 派生字段的字段名数组
+	private String opt; // 选项
 	
-	private int oldColCount; // Դֶ
-	private DataStruct newDs; // ݽṹ
-	//private boolean containNull; // Ƿnull
+	private int oldColCount; // 源字段数
+	private DataStruct newDs; // 结果集数据结构
+	//private boolean containNull; // 是否保留null
 	
 	private int level = 0;
 	
@@ -39,8 +39,8 @@ public class Derive extends Operation  {
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -76,7 +76,7 @@ public class Derive extends Operation  {
 			String []oldNames = ds.getFieldNames();
 			oldColCount = oldNames.length;
 			
-			// ϲֶ
+			// 合并字段
 			int newColCount = oldColCount + colCount;
 			String []totalNames = new String[newColCount];
 			System.arraycopy(oldNames, 0, totalNames, 0, oldColCount);
@@ -88,9 +88,9 @@ public class Derive extends Operation  {
 	}
 	
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -5,7 +5,7 @@ import com.scudata.dm.FileObject;
 import com.scudata.dm.Sequence;
 
 /**
- * ڱֹܵǰΪ
+ * 用于保持管道当前数据作为结果集
  * @author RunQian
  *
  */
@@ -22,9 +22,9 @@ public class FetchResult implements IResult {
 	}
 	
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public void push(Sequence table, Context ctx) {
@@ -36,8 +36,8 @@ public class FetchResult implements IResult {
 	}
 	
 	/**
-	 * ͽʱ
-	 * @param ctx 
+	 * 数据推送结束时调用
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
 		if (filePipe != null) {
@@ -46,8 +46,8 @@ public class FetchResult implements IResult {
 	}
 	
 	 /**
-	  * ͽȡյļ
-	  * @return 
+	  * 数据推送结束，取最终的计算结果
+	  * @return 结果
 	  */
 	public Object result() {
 		Sequence seq = result;
@@ -60,9 +60,9 @@ public class FetchResult implements IResult {
 	}
 	
 	/**
-	 * ȺܵҪѸڵķؽٺϲһ
-	 * @param results ÿڵļ
-	 * @return ϲĽ
+	 * 集群管道最后需要把各节点机的返回结果再合并一下
+	 * @param results 每个节点机的计算结果
+	 * @return 合并后的结果
 	 */
 	public Object combineResult(Object []results) {
 		int count = results.length;
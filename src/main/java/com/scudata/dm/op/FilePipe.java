@@ -13,7 +13,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ļܵڰѽյݱ浽ļ
+ * 文件管道，用于把接收到的数据保存到文件中
  * @author RunQian
  *
  */
@@ -27,9 +27,9 @@ public class FilePipe implements IPipe, IResource {
 	}
 	
 	/**
-	 * ܵ
-	 * @param seq 
-	 * @param ctx 
+	 * 往管道推送数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	public synchronized void push(Sequence seq, Context ctx) {
 		if (seq == null || seq.length() == 0) {
@@ -63,7 +63,7 @@ public class FilePipe implements IPipe, IResource {
 	}
 	
 	/**
-	 * ͽ
+	 * 数据推送结束
 	 * @param ctx
 	 */
 	public synchronized void finish(Context ctx) {
@@ -71,7 +71,7 @@ public class FilePipe implements IPipe, IResource {
 	}
 	
 	/**
-	 * رչܵ
+	 * 关闭管道
 	 * @param ctx
 	 */
 	public void close() {
@@ -16,19 +16,19 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * αܵjoinӳټ㺯˵ϵļ¼
+ * 用于游标或管道的join延迟计算函数，过滤掉关联不上的记录
  * @author RunQian
  *
  */
 public class FilterJoin extends Operation {
-	private Expression [][]exps; // ֶαʽ
-	private Sequence []codes; // 
-	private Expression [][]dataExps; // ʽ
-	private String opt; // ѡ
+	private Expression [][]exps; // 关联字段表达式数组
+	private Sequence []codes; // 代码表数组
+	private Expression [][]dataExps; // 代码表主键表达式数组
+	private String opt; // 选项
 	
-	private IndexTable []indexTables; // hashֵ
-	private boolean containNull; // еάǷǿ
-	private boolean isMerge; // Ƿʹù鲢йбֶ
+	private IndexTable []indexTables; // 代码表按hash值分组
+	private boolean containNull; // 有的维表是否是空
+	private boolean isMerge; // 是否使用归并法进行关联（所有表按关联字段有序）
 	
 	public FilterJoin(Expression[][] exps, Sequence[] codes, Expression[][] dataExps) {
 		this(null, exps, codes, dataExps, null);
@@ -57,17 +57,17 @@ public class FilterJoin extends Operation {
 	}
 	
 	/**
-	 * ȡǷԪ˺ټ¼
-	 * ˺αľȷȡӵĲʹ¼ֻ谴ȡ
-	 * @return trueᣬfalse
+	 * 取操作是否会减少元素数，比如过滤函数会减少记录
+	 * 此函数用于游标的精确取数，如果附加的操作不会使记录数减少则只需按传入的数量取数即可
+	 * @return true：会，false：不会
 	 */
 	public boolean isDecrease() {
 		return true;
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -165,7 +165,7 @@ public class FilterJoin extends Operation {
 					throw new RQException("join" + mm.getMessage("function.invalidParam"));
 				}
 
-				// #
+				// 如果不是用#关联则生成索引表
 				if (fcount != 1 || !(curExps[0].getHome() instanceof CurrentSeq)) {
 					indexTable = code.getIndexTable(curExps, ctx);
 					if (indexTable == null) {
@@ -181,9 +181,9 @@ public class FilterJoin extends Operation {
 	}
 	
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence data, Context ctx) {
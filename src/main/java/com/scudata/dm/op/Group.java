@@ -9,23 +9,23 @@ import com.scudata.expression.Function;
 import com.scudata.util.Variant;
 
 /**
- * ִ飬ڹܵαgroupӳټ㺯
+ * 对推送来的数据执行有序分组，用于管道和游标的group延迟计算函数
  * @author RunQian
  *
  */
 public class Group extends Operation {
-	private Expression []exps; // ʽ
-	private String opt; // ѡ
-	private boolean isign = false; // Ƿ@iѡ
-	private boolean isDistinct = false; // Ƿȥ
-	private boolean isReturnTable = false; // ȥʱǷ񷵻
+	private Expression []exps; // 分组表达式数组
+	private String opt; // 选项
+	private boolean isign = false; // 是否是@i选项
+	private boolean isDistinct = false; // 是否去重
+	private boolean isReturnTable = false; // 去重时是否返回序表
 	
-	private Sequence data; // ǰ
-	private Object []values; // ǰķֵֶ
+	private Sequence data; // 当前组的数据
+	private Object []values; // 当前分组的分组字段值
 	
-	// group@qѰǰ벿ֱʽ
-	private Expression []sortExps; // 벿ʽ
-	private boolean isSort; // Ƿֻ
+	// group@q数据已按前半部分表达式有序
+	private Expression []sortExps; // 后半部分排序表达式
+	private boolean isSort; // 是否只排序
 	
 	public Group(Expression []exps, String opt) {
 		this(null, exps, opt);
@@ -64,17 +64,17 @@ public class Group extends Operation {
 	}
 	
 	/**
-	 * ȡǷԪ˺ټ¼
-	 * ˺αľȷȡӵĲʹ¼ֻ谴ȡ
-	 * @return trueᣬfalse
+	 * 取操作是否会减少元素数，比如过滤函数会减少记录
+	 * 此函数用于游标的精确取数，如果附加的操作不会使记录数减少则只需按传入的数量取数即可
+	 * @return true：会，false：不会
 	 */
 	public boolean isDecrease() {
 		return true;
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -88,8 +88,8 @@ public class Group extends Operation {
 	}
 	
 	/**
-	 * ȫʱãһ
-	 * @param ctx 
+	 * 数据全部推送完成时调用，返回最后一组的数据
+	 * @param ctx 计算上下文
 	 * @return Sequence
 	 */
 	public Sequence finish(Context ctx) {
@@ -262,7 +262,7 @@ public class Group extends Operation {
 				current.setCurrent(i);
 				boolean isSame = true;
 				
-				// ǰαʽǷǰһ¼ͬ
+				// 计算前半段表达式，检查是否与前一条记录相同
 				for (int v = 0; v < fcount1; ++v) {
 					if (isSame) {
 						Object value = exps[v].calculate(ctx);
@@ -302,9 +302,9 @@ public class Group extends Operation {
 	}
 	
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
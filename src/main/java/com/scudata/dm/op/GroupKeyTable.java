@@ -0,0 +1,211 @@
+package com.scudata.dm.op;
+
+import com.scudata.array.IArray;
+import com.scudata.array.IntArray;
+import com.scudata.array.LongArray;
+import com.scudata.array.ObjectArray;
+import com.scudata.array.StringArray;
+
+/**
+ * 单字段分组用的开放地址哈希表，把分组字段值映射成分组在结果集中的序号
+ * 分组字段值全是整数、全是长整数或全是串时使用，不再对每条记录的键值做装箱和有序查找
+ * @author RunQian
+ *
+ */
+class GroupKeyTable {
+	static final int KEY_NONE = 0; // 不能用此哈希表
+	static final int KEY_NULL = 1; // 键值全为空
+	static final int KEY_INT = 2;
+	static final int KEY_LONG = 3;
+	static final int KEY_STRING = 4;
+
+	private int keyType = KEY_NULL; // 已经加入的键值的类型
+	private long []longKeys; // 整数键值
+	private String []stringKeys; // 串键值
+	private int []seqs; // 每个槽位对应的分组序号，0表示空槽位
+	private int mask; // 容量减1，容量是2的整数次幂
+	private int size; // 键值数，不包括空值
+	private int nullSeq; // 空值对应的分组序号
+
+	private static final int MAX_INIT_CAPACITY = 8192; // 初始容量上限，分组多时再扩大
+
+	/**
+	 * 构建哈希表
+	 * @param capacity 预估的分组数
+	 */
+	public GroupKeyTable(int capacity) {
+		int n = 16;
+		while (n < capacity && n < MAX_INIT_CAPACITY) {
+			n <<= 1;
+		}
+
+		seqs = new int[n];
+		mask = n - 1;
+	}
+
+	/**
+	 * 取数组中键值的类型
+	 * @param keys 键值数组
+	 * @return KEY_NONE、KEY_NULL、KEY_INT、KEY_LONG、KEY_STRING
+	 */
+	private static int getKeyType(IArray keys) {
+		if (keys instanceof IntArray) {
+			return KEY_INT;
+		} else if (keys instanceof LongArray) {
+			return KEY_LONG;
+		} else if (keys instanceof StringArray) {
+			return KEY_STRING;
+		} else if (!(keys instanceof ObjectArray)) {
+			return KEY_NONE;
+		}
+
+		Object []datas = ((ObjectArray)keys).getDatas();
+		int type = KEY_NULL;
+		for (int i = 1, len = keys.size(); i <= len; ++i) {
+			Object obj = datas[i];
+			int cur;
+			if (obj == null) {
+				continue;
+			} else if (obj instanceof Integer) {
+				cur = KEY_INT;
+			} else if (obj instanceof Long) {
+				cur = KEY_LONG;
+			} else if (obj instanceof String) {
+				cur = KEY_STRING;
+			} else {
+				return KEY_NONE;
+			}
+
+			if (type == KEY_NULL) {
+				type = cur;
+			} else if (type != cur) {
+				return KEY_NONE;
+			}
+		}
+
+		return type;
+	}
+
+	/**
+	 * 检查本批键值能否加入到哈希表，整数和长整数不混用，跟原来的哈希分组保持一致
+	 * @param keys 键值数组
+	 * @return true：可以，false：不可以
+	 */
+	public boolean checkKeys(IArray keys) {
+		int type = getKeyType(keys);
+		if (type == KEY_NONE) {
+			return false;
+		} else if (type == KEY_NULL || type == keyType) {
+			return true;
+		} else if (keyType == KEY_NULL) {
+			keyType = type;
+			if (type == KEY_STRING) {
+				stringKeys = new String[seqs.length];
+			} else {
+				longKeys = new long[seqs.length];
+			}
+
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * 查找键值对应的分组序号，找不到则加入并使用新序号，调用前需要用checkKeys检查
+	 * @param keys 键值数组
+	 * @param i 键值在数组中的序号
+	 * @param newSeq 新分组的序号
+	 * @return 分组序号，等于newSeq表示新加入的分组
+	 */
+	public int put(IArray keys, int i, int newSeq) {
+		if (keys.isNull(i)) {
+			if (nullSeq == 0) {
+				nullSeq = newSeq;
+			}
+
+			return nullSeq;
+		} else if (keyType == KEY_STRING) {
+			return put((String)keys.get(i), newSeq);
+		} else {
+			return put(keys.getLong(i), newSeq);
+		}
+	}
+
+	private int put(long key, int newSeq) {
+		long []longKeys = this.longKeys;
+		int []seqs = this.seqs;
+		int mask = this.mask;
+		long h = key * 0x9E3779B97F4A7C15L;
+		int index = (int)(h ^ (h >>> 32)) & mask;
+
+		while (true) {
+			int seq = seqs[index];
+			if (seq == 0) {
+				longKeys[index] = key;
+				seqs[index] = newSeq;
+				if (++size > (mask >> 1)) {
+					rehash();
+				}
+
+				return newSeq;
+			} else if (longKeys[index] == key) {
+				return seq;
+			} else {
+				index = (index + 1) & mask;
+			}
+		}
+	}
+
+	private int put(String key, int newSeq) {
+		String []stringKeys = this.stringKeys;
+		int []seqs = this.seqs;
+		int mask = this.mask;
+		int h = key.hashCode() * 0x9E3779B9;
+		int index = (h ^ (h >>> 16)) & mask;
+
+		while (true) {
+			int seq = seqs[index];
+			if (seq == 0) {
+				stringKeys[index] = key;
+				seqs[index] = newSeq;
+				if (++size > (mask >> 1)) {
+					rehash();
+				}
+
+				return newSeq;
+			} else if (stringKeys[index].equals(key)) {
+				return seq;
+			} else {
+				index = (index + 1) & mask;
+			}
+		}
+	}
+
+	// 装填因子超过0.5时容量扩大一倍
+	private void rehash() {
+		int []oldSeqs = seqs;
+		long []oldLongKeys = longKeys;
+		String []oldStringKeys = stringKeys;
+		int capacity = oldSeqs.length << 1;
+
+		seqs = new int[capacity];
+		mask = capacity - 1;
+		size = 0;
+		if (oldStringKeys != null) {
+			stringKeys = new String[capacity];
+			for (int i = 0; i < oldSeqs.length; ++i) {
+				if (oldSeqs[i] != 0) {
+					put(oldStringKeys[i], oldSeqs[i]);
+				}
+			}
+		} else {
+			longKeys = new long[capacity];
+			for (int i = 0; i < oldSeqs.length; ++i) {
+				if (oldSeqs[i] != 0) {
+					put(oldLongKeys[i], oldSeqs[i]);
+				}
+			}
+		}
+	}
+}
@@ -13,10 +13,10 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 public class Groupn extends Operation {
-	private Expression exp; // ʽ
+	private Expression exp; // 分组表达式
 	
-	private IPipe []pipes; // ܵ飬ݰֵдӦĹܵ
-	private Sequence []groups; // ڴÿ
+	private IPipe []pipes; // 管道数组，数据按分组值写入相应的管道
+	private Sequence []groups; // 用于存放每个分组的数据
 	
 	public Groupn(Expression exp, Sequence result) {
 		this(null, exp, result);
@@ -78,8 +78,8 @@ public class Groupn extends Operation {
 	}
 		
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -88,8 +88,8 @@ public class Groupn extends Operation {
 	}
 	
 	/**
-	 * ȫʱ
-	 * @param ctx 
+	 * 数据全部推送完成时调用
+	 * @param ctx 计算上下文
 	 * @return Sequence
 	 */
 	public Sequence finish(Context ctx) {
@@ -129,9 +129,9 @@ public class Groupn extends Operation {
 	}
 	
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -21,48 +21,48 @@ import com.scudata.util.HashUtil;
 import com.scudata.util.Variant;
 
 /**
- * ִܣڹܵαֶεgroupӳټ㺯
+ * 对推送来的数据执行有序分组汇总，用于管道和游标带汇总字段的group延迟计算函数
  * @author RunQian
  *
  */
 public class Groups extends Operation {
-	private Expression []exps; // ʽ
-	private String []names; // ֶ
-	private Expression[] newExps; // ܱʽ
-	private String []newNames; // ֶ
+	private Expression []exps; // 分组表达式数组
+	private String []names; // 分组字段名数组
+	private Expression[] newExps; // 汇总表达式数组
+	private String []newNames; // 汇总字段名数组
 	
-	private Node []gathers; // ܱʽӦĻܺ
-	private DataStruct newDs; // ݽṹ
-	private String opt; // ѡ
-	private boolean iopt = false; // Ƿ@iѡ
-	private boolean sopt = false; // Ƿ@sѡۻʽ
+	private Node []gathers; // 汇总表达式对应的汇总函数
+	private DataStruct newDs; // 结果集数据结构
+	private String opt; // 选项
+	private boolean iopt = false; // 是否是@i选项
+	private boolean sopt = false; // 是否是@s选项，用累积方式计算
 	
-	// ʱۻʹ
-	private Record r; // ǰܵļ¼
+	// 有序时采用累积法分组使用
+	private Record r; // 当前分组汇总到的记录
 	
-	// group@qѰǰ벿ֱʽ
-	private Expression []sortExps; // 벿Ҫʽ
-	private Expression []groupExps; // Ƶܵķʽ
+	// group@q数据已按前半部分表达式有序
+	private Expression []sortExps; // 后半部分需要排序表达式
+	private Expression []groupExps; // 复制的总的分组表达式
 	private String []sortNames;
 	private Sequence data;
 	private Object []values;
 	
-	// ǰ벿ʱۻʹ
-	private HashUtil hashUtil; // ṩϣĹϣ
-	private ListBase1 []groups; // ϣ
-	private Table tempResult; // ܽ
-	private int []sortFields; // Է
+	// 前半部分有序时采用累积法分组使用
+	private HashUtil hashUtil; // 提供哈希运算的哈希类
+	private ListBase1 []groups; // 哈希表
+	private Table tempResult; // 分组汇总结果
+	private int []sortFields; // 用来对分组结果进行排序
 	
-	private String []alterFields; // @bѡʱҪȥֶ
+	private String []alterFields; // @b选项时结果集需要去掉分组字段
 	
 	/**
-	 * 
-	 * @param exps ǰ벿ķֶαʽ
-	 * @param names ֶ
-	 * @param newExps ܱʽ
-	 * @param newNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 构造分组运算对象
+	 * @param exps 前半部分有序的分组字段表达式
+	 * @param names 字段名数组
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public Groups(Expression[] exps, String []names, 
 			Expression[] newExps, String []newNames, String opt, Context ctx) {
@@ -70,14 +70,14 @@ public class Groups extends Operation {
 	}
 	
 	/**
-	 * 
+	 * 构造分组运算对象
 	 * @param function
-	 * @param exps ǰ벿ķֶαʽ
-	 * @param names ֶ
-	 * @param newExps ܱʽ
-	 * @param newNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param exps 前半部分有序的分组字段表达式
+	 * @param names 字段名数组
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public Groups(Function function, Expression[] exps, String []names, 
 			Expression[] newExps, String []newNames, String opt, Context ctx) {
@@ -121,7 +121,7 @@ public class Groups extends Operation {
 		this.opt = opt;
 		
 		if (sopt) {
-			// ۻ
+			// 采用累积法分组
 			gathers = Sequence.prepareGatherMethods(newExps, ctx);
 		} else {
 			for (int i = 0; i < newCount; ++i) {
@@ -137,16 +137,16 @@ public class Groups extends Operation {
 	}
 	
 	/**
-	 * 
+	 * 构造分组运算对象
 	 * @param function
-	 * @param exps ǰ벿ķֶαʽ
-	 * @param names ֶ
-	 * @param sortExps 벿ķֶαʽ
-	 * @param sortNames ֶ
-	 * @param newExps ܱʽ
-	 * @param newNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param exps 前半部分有序的分组字段表达式
+	 * @param names 字段名数组
+	 * @param sortExps 后半部分无序的分组字段表达式
+	 * @param sortNames 字段名数组
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public Groups(Function function, Expression[] exps, String []names, 
 			Expression[] sortExps, String []sortNames, 
@@ -208,7 +208,7 @@ public class Groups extends Operation {
 		this.opt = opt;
 		
 		if (sopt) {
-			// ۻ
+			// 采用累积法分组
 			gathers = Sequence.prepareGatherMethods(newExps, ctx);
 			hashUtil = new HashUtil(1031);
 			groups = new ListBase1[hashUtil.getCapacity()];
@@ -233,17 +233,17 @@ public class Groups extends Operation {
 	}
 	
 	/**
-	 * ȡǷԪ˺ټ¼
-	 * ˺αľȷȡӵĲʹ¼ֻ谴ȡ
-	 * @return trueᣬfalse
+	 * 取操作是否会减少元素数，比如过滤函数会减少记录
+	 * 此函数用于游标的精确取数，如果附加的操作不会使记录数减少则只需按传入的数量取数即可
+	 * @return true：会，false：不会
 	 */
 	public boolean isDecrease() {
 		return true;
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -259,13 +259,13 @@ public class Groups extends Operation {
 	}
 	
 	/**
-	 * ȫʱãһ
-	 * @param ctx 
+	 * 数据全部推送完成时调用，返回最后一组的数据
+	 * @param ctx 计算上下文
 	 * @return Sequence
 	 */
 	public Sequence finish(Context ctx) {
 		if (r != null) {
-			// @i@sѡ
+			// @i或@s选项
 			Table result = new Table(r.dataStruct(), 1);
 			result.getMems().add(r);
 			r = null;
@@ -294,7 +294,7 @@ public class Groups extends Operation {
 			data = null;
 			return result;
 		} else if (tempResult != null) {
-			// @qsѡ
+			// @qs选项
 			Table result = tempResult;
 			tempResult = null;
 			groups = null;
@@ -365,7 +365,7 @@ public class Groups extends Operation {
 		}
 	}
 	
-	// һݼ
+	// 对一组数据计算汇总
 	private static void group1(Sequence data, Object []groupValues, Expression []newExps, Context ctx, Table result) {
 		if (newExps == null) {
 			result.newLast(groupValues);
@@ -381,7 +381,7 @@ public class Groups extends Operation {
 		current.setCurrent(1);
 		stack.push(current);
 
-		// ۺֵֶ
+		// 计算聚合字段值
 		try {
 			BaseRecord r = result.newLast(groupValues);
 			for (Expression newExp : newExps) {
@@ -409,7 +409,7 @@ public class Groups extends Operation {
 				current.setCurrent(i);
 				boolean isSame = true;
 				
-				// ǰαʽǷǰһ¼ͬ
+				// 计算前半段表达式，检查是否与前一条记录相同
 				for (int v = 0; v < fcount1; ++v) {
 					if (isSame) {
 						Object value = exps[v].calculate(ctx);
@@ -446,7 +446,7 @@ public class Groups extends Operation {
 		}
 	}
 	
-	// ֶʱۻʽֵ
+	// 分组字段有序时用累积方式计算汇总值
 	private Sequence groups_os(Sequence seq, Context ctx) {
 		DataStruct newDs = this.newDs;
 		Expression[] exps = this.exps;
@@ -509,7 +509,7 @@ public class Groups extends Operation {
 		}
 	}
 	
-	// ȷٶÿݼ
+	// 先分组再对每组数据计算汇总
 	private static void group(Sequence data, Expression []groupExps, Expression []newExps, Context ctx, Table result) {
 		Sequence groups = data.group(groupExps, null, ctx);
 		int len = groups.length();
@@ -525,7 +525,7 @@ public class Groups extends Operation {
 		Current current = new Current(keyGroups);
 		stack.push(current);
 
-		// ֵֶ
+		// 计算分组字段值
 		try {
 			for (int i = 1; i <= len; ++i) {
 				BaseRecord r = result.newLast();
@@ -546,7 +546,7 @@ public class Groups extends Operation {
 		current = new Current(groups);
 		stack.push(current);
 
-		// ۺֵֶ
+		// 计算聚合字段值
 		try {
 			for (int i = 1; i <= len; ++i) {
 				BaseRecord r = (BaseRecord)result.getMem(++oldCount);
@@ -560,7 +560,7 @@ public class Groups extends Operation {
 		}
 	}
 	
-	// ǰʱ÷ֵ
+	// 前半有序分组时采用先算好分组再算汇总值
 	private Sequence groups_q(Sequence seq, Context ctx) {
 		Expression[] exps = this.exps;
 		int fcount1 = exps.length;
@@ -577,7 +577,7 @@ public class Groups extends Operation {
 				current.setCurrent(i);
 				boolean isSame = true;
 				
-				// ǰαʽǷǰһ¼ͬ
+				// 计算前半段表达式，检查是否与前一条记录相同
 				for (int v = 0; v < fcount1; ++v) {
 					if (isSame) {
 						Object value = exps[v].calculate(ctx);
@@ -613,7 +613,7 @@ public class Groups extends Operation {
 		}
 	}
 	
-	// ǰʱۻ
+	// 前半有序分组时采用累积法计算
 	private Sequence groups_qs(Sequence seq, Context ctx) {
 		int fcount1 = exps.length;
 		Expression[] groupExps = this.groupExps;
@@ -626,7 +626,7 @@ public class Groups extends Operation {
 		Table tempResult = this.tempResult;
 		Table result = new Table(newDs);
 		
-		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize(); // ϣĴС
+		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize(); // 哈希表的大小
 		ComputeStack stack = ctx.getComputeStack();
 		Current current = new Current(seq);
 		stack.push(current);
@@ -636,7 +636,7 @@ public class Groups extends Operation {
 				current.setCurrent(i);
 				boolean isSame = true;
 				
-				// ǰαʽǷǰһ¼ͬ
+				// 计算前半段表达式，检查是否与前一条记录相同
 				for (int v = 0; v < fcount1; ++v) {
 					if (isSame) {
 						Object value = groupExps[v].calculate(ctx);
@@ -654,7 +654,7 @@ public class Groups extends Operation {
 				}
 				
 				if (!isSame) {
-					// ǰʱֵ浽
+					// 当前大分组结束，把临时分组值保存到结果中
 					tempResult.sortFields(sortFields);
 					tempResult.finishGather(gathers);
 					result.addAll(tempResult);
@@ -665,7 +665,7 @@ public class Groups extends Operation {
 					}
 				}
 				
-				// ѵǰ¼ۻ
+				// 把当前记录累积到分组结果上
 				int hash = hashUtil.hashCode(values);
 				if (groups[hash] == null) {
 					groups[hash] = new ListBase1(INIT_GROUPSIZE);
@@ -710,9 +710,9 @@ public class Groups extends Operation {
 	}
 	
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
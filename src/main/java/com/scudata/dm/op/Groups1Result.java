@@ -22,28 +22,32 @@ import com.scudata.util.HashUtil;
 import com.scudata.util.Variant;
 
 /**
- * ڶִаֶνڴ
+ * 用于对推送来的数据执行按单字段进行内存分组汇总运算
  * @author RunQian
  *
  */
 public class Groups1Result extends IGroupsResult {
-	private Expression gexp; // ֶ
-	private String gname; // ֶ
-	private Expression []calcExps; // ܱʽ
-	private String []calcNames; // ֶ
-	private String opt; // ѡ
-	private Context ctx; // 
+	private Expression gexp; // 分组字段
+	private String gname; // 分组字段名
+	private Expression []calcExps; // 汇总表达式
+	private String []calcNames; // 汇总字段名
+	private String opt; // 函数选项
+	private Context ctx; // 计算上下文
 	
-	private HashUtil hashUtil; // ṩϣĹϣ
-	private ListBase1 []groups; // ֶεĻÿֶζӦһλãͨϣӦλ
-	private Node[] gathers = null; // ͳƱʽеͳƺ
+	private HashUtil hashUtil; // 提供哈希运算的哈希类
+	private ListBase1 []groups; // 保存各个分段的缓冲区，每个分段对应一个位置，通过哈希计算对应该位置
+	private Node[] gathers = null; // 统计表达式中的统计函数
+	
+	// 分组字段值是整数或串时用开放地址哈希表分组，遇到其它类型的值时再改用hashUtil和groups
+	private GroupKeyTable keyTable;
+	private PrimitiveGather []primitiveGathers; // 可以用基本类型数组汇总的统计函数，其它为空
 
-	private DataStruct ds; // ݽṹ
-	private int valCount; // ֶ
+	private DataStruct ds; // 结果集数据结构
+	private int valCount; // 汇总字段数
 	
-	private Table result; // ܽ
-	private BaseRecord prevRecord; // һ¼
-	private SortedGroupsLink link; // hѡ 
+	private Table result; // 分组汇总结果
+	private BaseRecord prevRecord; // 上一条结果集记录
+	private SortedGroupsLink link; // 用于h选项 
 	
 	private boolean oOpt;
 	private boolean iOpt;
@@ -51,13 +55,13 @@ public class Groups1Result extends IGroupsResult {
 	private boolean hOpt;
 
 	/**
-	 * ʼ
-	 * @param gexp		ʽ
-	 * @param gname		ʽ
-	 * @param calcExps	ͳƱʽ
-	 * @param calcNames	ͳƱʽ
-	 * @param opt		ѡ
-	 * @param ctx		ı
+	 * 初始化参数
+	 * @param gexp		分组表达式
+	 * @param gname		分组表达式名
+	 * @param calcExps	统计表达式
+	 * @param calcNames	统计表达式名
+	 * @param opt		函数选项
+	 * @param ctx		上下文变量
 	 */
 	public Groups1Result(Expression gexp, String gname, Expression[] calcExps, 
 			String[] calcNames, String opt, Context ctx) {
@@ -65,14 +69,14 @@ public class Groups1Result extends IGroupsResult {
 	}
 	
 	/**
-	 * ʼ
-	 * @param gexp		ʽ
-	 * @param gname		ʽ
-	 * @param calcExps	ͳƱʽ
-	 * @param calcNames	ͳƱʽ
-	 * @param opt		ѡ
-	 * @param ctx		ı
-	 * @param capacity	ϣС
+	 * 初始化函数
+	 * @param gexp		分组表达式
+	 * @param gname		分组表达式名
+	 * @param calcExps	统计表达式
+	 * @param calcNames	统计表达式名
+	 * @param opt		函数选项
+	 * @param ctx		上下文变量
+	 * @param capacity	结果哈希表大小
 	 */
 	public Groups1Result(Expression gexp, String gname, Expression[] calcExps, 
 			String[] calcNames, String opt, Context ctx, int capacity) {
@@ -88,7 +92,7 @@ public class Groups1Result extends IGroupsResult {
 			valCount = gathers.length;
 		}
 
-		// ϲͳɽ
+		// 合并分组列名和统计列名，生成结果集的列名
 		String[] colNames = new String[1 + valCount];
 		colNames[0] = gname;
 		
@@ -96,11 +100,11 @@ public class Groups1Result extends IGroupsResult {
 			System.arraycopy(calcNames, 0, colNames, 1, valCount);
 		}
 
-		// ɽݽṹ
+		// 生成结果集数据结构
 		ds = new DataStruct(colNames);
 		ds.setPrimary(new String[]{gname});
 
-		// úѡݺѡжǷҪϣ
+		// 设置函数选项。并根据函数选项，判断是否需要哈希表
 		if (opt != null) {
 			if (opt.indexOf('o') != -1) {
 				oOpt = true;
@@ -117,14 +121,20 @@ public class Groups1Result extends IGroupsResult {
 			link = new SortedGroupsLink();
 		} else if (!oOpt && !iOpt && !nOpt) {
 			hashUtil = new HashUtil(capacity);
-			groups = new ListBase1[hashUtil.getCapacity()];
+			keyTable = new GroupKeyTable(capacity);
+			if (valCount > 0) {
+				primitiveGathers = new PrimitiveGather[valCount];
+				for (int i = 0; i < valCount; ++i) {
+					primitiveGathers[i] = PrimitiveGather.newInstance(gathers[i]);
+				}
+			}
 		}
 		
 		result = new Table(ds, 1024);
 	}
 	
 	/**
-	 * ȡݽṹ
+	 * 取结果集数据结构
 	 * @return DataStruct
 	 */
 	public DataStruct getResultDataStruct() {
@@ -132,7 +142,7 @@ public class Groups1Result extends IGroupsResult {
 	}
 	
 	/**
-	 * ȡλܺڼսıʽavgֳܱsumcountнм
+	 * 取二次汇总后用于计算最终结果的表达式，avg可能被分成sum、count两列进行计算
 	 * @return
 	 */
 	public Expression[] getResultExpressions() {
@@ -140,39 +150,39 @@ public class Groups1Result extends IGroupsResult {
 	}
 	
 	/**
-	 * ȡʽ
-	 * @return ʽ
+	 * 取分组表达式
+	 * @return 表达式数组
 	 */
 	public Expression[] getExps() {
 		return new Expression[]{gexp};
 	}
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取分组字段名
+	 * @return 字段名数组
 	 */
 	public String[] getNames() {
 		return new String[]{gname};
 	}
 
 	/**
-	 * ȡܱʽ
-	 * @return ʽ
+	 * 取汇总表达式
+	 * @return 表达式数组
 	 */
 	public Expression[] getCalcExps() {
 		return calcExps;
 	}
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取汇总字段名
+	 * @return 字段名数组
 	 */
 	public String[] getCalcNames() {
 		return calcNames;
 	}
 
 	/**
-	 * ȡѡ
+	 * 取选项
 	 * @return
 	 */
 	public String getOption() {
@@ -180,15 +190,15 @@ public class Groups1Result extends IGroupsResult {
 	}
 	
 	/**
-	 * ȡǷ
-	 * @return trueǣݰֶfalse
+	 * 取是否是有序分组
+	 * @return true：是，数据按分组字段有序，false：不是
 	 */
 	public boolean isSortedGroup() {
 		return oOpt;
 	}
 	
 	/**
-	 * ȡλܱʽڶ̷߳
+	 * 取二次汇总表达式，用于多线程分组
 	 * @return
 	 */
 	public Expression[] getRegatherExpressions() {
@@ -207,7 +217,7 @@ public class Groups1Result extends IGroupsResult {
 	}
 	
 	/**
-	 * ȡλݽṹ
+	 * 取二次汇总数据结构
 	 * @return DataStruct
 	 */
 	public DataStruct getRegatherDataStruct() {
@@ -215,11 +225,12 @@ public class Groups1Result extends IGroupsResult {
 	}
 	
 	/**
-	 * ʱȡÿ̵߳мҪжλ
+	 * 并行运算时，取出每个线程的中间计算结果，还需要进行二次汇总
 	 * @return Table
 	 */
 	public Table getTempResult() {
 		if (hashUtil != null) {
+			finishKeyTable();
 			this.hashUtil = null;
 			this.groups = null;
 		}  else if (nOpt) {
@@ -248,11 +259,12 @@ public class Groups1Result extends IGroupsResult {
 	}
 
 	/**
-	 * ȡܽ
+	 * 取分组汇总结果
 	 * @return Table
 	 */
 	public Table getResultTable() {
-		if (hashUtil != null) {	
+		if (hashUtil != null) {
+			finishKeyTable();
 			if (opt == null || opt.indexOf('u') == -1) {
 				int []fields = new int[]{0};
 				result.sortFields(fields);
@@ -303,14 +315,14 @@ public class Groups1Result extends IGroupsResult {
 	}
 	
 	/**
-	 * ͽʱ
-	 * @param ctx 
+	 * 数据推送结束时调用
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
 	}
 	
 	 /**
-	  * ͽȡյļ
+	  * 数据推送结束，取最终的计算结果
 	  * @return
 	  */
 	public Object result() {
@@ -318,9 +330,9 @@ public class Groups1Result extends IGroupsResult {
 	}
 	
 	/**
-	 * ͹ݣۻյĽ
-	 * @param seq 
-	 * @param ctx 
+	 * 处理推送过来的数据，累积到最终的结果上
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	public void push(Sequence table, Context ctx) {
 		if (table == null || table.length() == 0) return;
@@ -341,18 +353,18 @@ public class Groups1Result extends IGroupsResult {
 	}
 
 	/**
-	 * ͹αݣۻյĽ
-	 * @param cursor α
+	 * 处理推送过来的游标数据，累积到最终的结果上
+	 * @param cursor 游标数据
 	 */
 	public void push(ICursor cursor) {
 		Context ctx = this.ctx;
 		if (hashUtil != null) {
 			while (true) {
-				// αȡһݡ
+				// 从游标中取得一组数据。
 				Sequence src = cursor.fuzzyFetch(ICursor.FETCHCOUNT);
 				if (src == null || src.length() == 0) break;
 				
-				// ӵִ࣬ͳƺ
+				// 把数据添加到分组结果类，并执行统计函数。
 				addGroups(src, ctx);
 			}
 		} else if (oOpt) {
@@ -393,8 +405,120 @@ public class Groups1Result extends IGroupsResult {
 		}
 	}
 	
-	// ϣ
+	// 把基本类型数组中的汇总值写到结果集记录中，并且不再使用开放地址哈希表
+	private void finishKeyTable() {
+		if (primitiveGathers != null) {
+			for (int v = 0; v < valCount; ++v) {
+				if (primitiveGathers[v] != null) {
+					primitiveGathers[v].finish(result, v + 1);
+				}
+			}
+			
+			primitiveGathers = null;
+		}
+		
+		keyTable = null;
+	}
+	
+	// 分组字段值出现了开放地址哈希表不支持的类型，把已有的分组加入到hashUtil对应的哈希表中
+	private void toHashGroups() {
+		finishKeyTable();
+		
+		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize();
+		HashUtil hashUtil = this.hashUtil;
+		ListBase1 []groups = new ListBase1[hashUtil.getCapacity()];
+		this.groups = groups;
+		
+		IArray mems = result.getMems();
+		for (int i = 1, len = mems.size(); i <= len; ++i) {
+			BaseRecord r = (BaseRecord)mems.get(i);
+			Object key = r.getNormalFieldValue(0);
+			int hash = hashUtil.hashCode(key);
+			if (groups[hash] == null) {
+				groups[hash] = new ListBase1(INIT_GROUPSIZE);
+				groups[hash].add(r);
+			} else {
+				int index = HashUtil.bsearch_r(groups[hash], key);
+				groups[hash].add(-index, r);
+			}
+		}
+	}
+	
+	// 用开放地址哈希表分组，分组字段值类型不支持时返回false
+	private boolean addGroupsByKeyTable(Sequence table, Context ctx) {
+		ComputeStack stack = ctx.getComputeStack();
+		Current current = new Current(table);
+		stack.push(current);
+
+		try {
+			IArray keys = gexp.calculateAll(ctx);
+			GroupKeyTable keyTable = this.keyTable;
+			if (!keyTable.checkKeys(keys)) {
+				return false;
+			}
+			
+			Table result = this.result;
+			int len = keys.size();
+			int []seqs = new int[len + 1];
+			boolean []isNewGroup = new boolean[len + 1]; // 记录是否是分组的第一条
+			int groupCount = result.length();
+			
+			for (int i = 1; i <= len; ++i) {
+				int seq = keyTable.put(keys, i, groupCount + 1);
+				if (seq > groupCount) {
+					BaseRecord r = result.newLast();
+					r.setNormalFieldValue(0, keys.get(i));
+					isNewGroup[i] = true;
+					groupCount++;
+				}
+				
+				seqs[i] = seq;
+			}
+			
+			PrimitiveGather []primitiveGathers = this.primitiveGathers;
+			Node []gathers = this.gathers;
+			IArray mems = result.getMems();
+			for (int v = 0, f = 1; v < valCount; ++v, ++f) {
+				PrimitiveGather primitiveGather = primitiveGathers[v];
+				if (primitiveGather != null) {
+					IArray values = primitiveGather.getExp().calculateAll(ctx);
+					if (primitiveGather.gather(values, seqs, groupCount)) {
+						continue;
+					}
+					
+					// 值的类型不适合，之前的汇总值写到记录中，改成逐条汇总
+					primitiveGather.finish(result, f);
+					primitiveGathers[v] = null;
+				}
+				
+				Node gather = gathers[v];
+				for (int i = 1; i <= len; ++i) {
+					current.setCurrent(i);
+					BaseRecord r = (BaseRecord)mems.get(seqs[i]);
+					if (isNewGroup[i]) {
+						r.setNormalFieldValue(f, gather.gather(ctx));
+					} else {
+						r.setNormalFieldValue(f, gather.gather(r.getNormalFieldValue(f), ctx));
+					}
+				}
+			}
+			
+			return true;
+		} finally {
+			stack.pop();
+		}
+	}
+	
+	// 哈希法分组
 	private void addGroups(Sequence table, Context ctx) {
+		if (keyTable != null) {
+			if (addGroupsByKeyTable(table, ctx)) {
+				return;
+			}
+			
+			toHashGroups();
+		}
+		
 		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize();
 		HashUtil hashUtil = this.hashUtil;
 		ListBase1 []groups = this.groups;
@@ -560,7 +684,7 @@ public class Groups1Result extends IGroupsResult {
 	}
 
 	/**
-	 * ÷@nѡʹ
+	 * 设置分组数，@n选项使用
 	 * @param groupCount
 	 */
 	public void setGroupCount(int groupCount) {
@@ -588,7 +712,7 @@ public class Groups1Result extends IGroupsResult {
 
 				int index = ((Number)obj).intValue();
 				if (index < 1) {
-					// С1ķŹҪˣٱֵκһ
+					// 碰到小于1的放过不要了，不再报错，不分到任何一组里
 					continue;
 				}
 
@@ -652,9 +776,9 @@ public class Groups1Result extends IGroupsResult {
 	}
 	
 	/**
-	 * ·ʱ԰·ϲжηܣõյĻܽ
-	 * @param results ·ķɵ
-	 * @return յĻܽ
+	 * 多路运算时对把所有路的运算结果合并进行二次分组汇总，得到最终的汇总结果
+	 * @param results 所有路的分组结果构成的数组
+	 * @return 最终的汇总结果
 	 */
 	public Object combineResult(Object []results) {
 		int count = results.length;
@@ -665,7 +789,7 @@ public class Groups1Result extends IGroupsResult {
 			}
 		}
 		
-		// ·α갴ֶβֵ
+		// 各路游标按分组字段拆分的
 		if (opt != null && opt.indexOf('o') != -1) {
 			return result.derive("o");
 		}
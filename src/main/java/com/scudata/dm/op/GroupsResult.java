@@ -22,45 +22,45 @@ import com.scudata.util.HashUtil;
 import com.scudata.util.Variant;
 
 /**
- * ڶִаֶνڴ
+ * 用于对推送来的数据执行按多字段进行内存分组汇总运算
  * @author RunQian
  *
  */
 public class GroupsResult extends IGroupsResult {
-	private Expression[] exps; // ʽ
-	private String []names; // ֶ
-	private Expression []calcExps; // ͳƱʽ
-	private String []calcNames; // ͳֶ
-	private String opt; // ѡ
-	private Context ctx; // 
+	private Expression[] exps; // 分组表达式
+	private String []names; // 分组字段名
+	private Expression []calcExps; // 统计表达式
+	private String []calcNames; // 统计字段名
+	private String opt; // 函数选项
+	private Context ctx; // 计算上下文
 	
-	private HashUtil hashUtil; // ṩϣĹϣ
-	private ListBase1 []groups; // ϣ
-	private Node[] gathers = null; // ͳƱʽеͳƺ
+	private HashUtil hashUtil; // 提供哈希运算的哈希类
+	private ListBase1 []groups; // 哈希表
+	private Node[] gathers = null; // 统计表达式中的统计函数
 	
-	private DataStruct ds; // ݽṹ
-	private int keyCount; // ֶ
-	private int valCount; // ֶ
+	private DataStruct ds; // 结果集数据结构
+	private int keyCount; // 分组字段数
+	private int valCount; // 汇总字段数
 	
-	private Table result; // ܽ
-	private BaseRecord prevRecord; // һ¼
+	private Table result; // 分组汇总结果
+	private BaseRecord prevRecord; // 上一条结果集记录
 	
-	private SortedGroupsLink link; // hѡ
+	private SortedGroupsLink link; // 用于h选项
 	
 	private boolean oOpt;
 	private boolean iOpt;
 	private boolean nOpt;
 	private boolean hOpt;
-	public boolean XOpt;//ʹö̬Żʹ
+	public boolean XOpt;//使用动态编译优化，留作将来使用
 
 	/**
-	 * ʼ
-	 * @param exps		ʽ
-	 * @param names		ʽ
-	 * @param calcExps	ͳƱʽ
-	 * @param calcNames	ͳƱʽ
-	 * @param opt		ѡ
-	 * @param ctx		ı
+	 * 初始化参数
+	 * @param exps		分组表达式
+	 * @param names		分组表达式名
+	 * @param calcExps	统计表达式
+	 * @param calcNames	统计表达式名
+	 * @param opt		函数选项
+	 * @param ctx		上下文变量
 	 */
 	public GroupsResult(Expression[] exps, String[] names, Expression[] calcExps, 
 			String[] calcNames, String opt, Context ctx) {
@@ -68,14 +68,14 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ʼ
-	 * @param exps		ʽ
-	 * @param names		ʽ
-	 * @param calcExps	ͳƱʽ
-	 * @param calcNames	ͳƱʽ
-	 * @param opt		ѡ
-	 * @param ctx		ı
-	 * @param capacity	ϣС
+	 * 初始化函数
+	 * @param exps		分组表达式
+	 * @param names		分组表达式名
+	 * @param calcExps	统计表达式
+	 * @param calcNames	统计表达式名
+	 * @param opt		函数选项
+	 * @param ctx		上下文变量
+	 * @param capacity	结果哈希表大小
 	 */
 	public GroupsResult(Expression[] exps, String[] names, Expression[] calcExps, 
 			String[] calcNames, String opt, Context ctx, int capacity) {
@@ -86,19 +86,19 @@ public class GroupsResult extends IGroupsResult {
 		this.opt = opt;
 		this.ctx = ctx;
 		
-		// ݱʽ֣ɸе֡ɽṹ
-		// ɷʽӦе
+		// 根据表达式名字，生成各个列的名字。并根据列名生成结果表结构
+		// 生成分组表达式对应的列的列名
 		if (exps != null) {
 			keyCount = exps.length;
 		}
 
-		// ͳƱʽӦе, ȡþۺϺ
+		// 生成统计表达式对应的列的列名, 取得聚合函数
 		if (calcExps != null) {			
 			gathers = Sequence.prepareGatherMethods(this.calcExps, ctx);
 			valCount = gathers.length;
 		}
 
-		// ϲͳɽ
+		// 合并分组列名和统计列名，生成结果集的列名
 		String[] colNames = new String[keyCount + valCount];
 		if (names != null) {
 			System.arraycopy(names, 0, colNames, 0, keyCount);
@@ -108,11 +108,11 @@ public class GroupsResult extends IGroupsResult {
 			System.arraycopy(calcNames, 0, colNames, keyCount, valCount);
 		}
 
-		// ɽݽṹ
+		// 生成结果集数据结构
 		ds = new DataStruct(colNames);
 		ds.setPrimary(names);
 
-		// úѡݺѡжǷҪϣ
+		// 设置函数选项。并根据函数选项，判断是否需要哈希表
 		if (opt != null) {
 			if (opt.indexOf('o') != -1) {
 				oOpt = true;
@@ -148,7 +148,7 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ȡݽṹ
+	 * 取结果集数据结构
 	 * @return DataStruct
 	 */
 	public DataStruct getResultDataStruct() {
@@ -156,32 +156,32 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ȡʽ
-	 * @return ʽ
+	 * 取分组表达式
+	 * @return 表达式数组
 	 */
 	public Expression[] getExps() {
 		return exps;
 	}
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取分组字段名
+	 * @return 字段名数组
 	 */
 	public String[] getNames() {
 		return names;
 	}
 
 	/**
-	 * ȡܱʽ
-	 * @return ʽ
+	 * 取汇总表达式
+	 * @return 表达式数组
 	 */
 	public Expression[] getCalcExps() {
 		return calcExps;
 	}
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取汇总字段名
+	 * @return 字段名数组
 	 */
 	public String[] getCalcNames() {
 		return calcNames;
@@ -200,7 +200,7 @@ public class GroupsResult extends IGroupsResult {
 	}
 
 	/**
-	 * ȡܽ
+	 * 取分组汇总结果
 	 * @return Table
 	 */
 	public Table getResult() {
@@ -208,7 +208,7 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ȡѡ
+	 * 取选项
 	 * @return
 	 */
 	public String getOption() {
@@ -216,15 +216,15 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ȡǷ
-	 * @return trueǣݰֶfalse
+	 * 取是否是有序分组
+	 * @return true：是，数据按分组字段有序，false：不是
 	 */
 	public boolean isSortedGroup() {
 		return oOpt;
 	}
 	
 	/**
-	 * ȡλܱʽڶ̷߳
+	 * 取二次汇总表达式，用于多线程分组
 	 * @return
 	 */
 	public Expression[] getRegatherExpressions() {
@@ -243,7 +243,7 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ȡλݽṹ
+	 * 取二次汇总数据结构
 	 * @return DataStruct
 	 */
 	public DataStruct getRegatherDataStruct() {
@@ -251,7 +251,7 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ȡλܺڼսıʽavgֳܱsumcountнм
+	 * 取二次汇总后用于计算最终结果的表达式，avg可能被分成sum、count两列进行计算
 	 * @return
 	 */
 	public Expression[] getResultExpressions() {
@@ -259,7 +259,7 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ʱȡÿ̵߳мҪжλ
+	 * 并行运算时，取出每个线程的中间计算结果，还需要进行二次汇总
 	 * @return Table
 	 */
 	public Table getTempResult() {
@@ -292,7 +292,7 @@ public class GroupsResult extends IGroupsResult {
 	}
 
 	/**
-	 * ȡܽ
+	 * 取分组汇总结果
 	 * @return Table
 	 */
 	public Table getResultTable() {
@@ -351,14 +351,14 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ͽʱ
-	 * @param ctx 
+	 * 数据推送结束时调用
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
 	}
 	
 	 /**
-	  * ͽȡյļ
+	  * 数据推送结束，取最终的计算结果
 	  * @return
 	  */
 	public Object result() {
@@ -366,9 +366,9 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ͹ݣۻյĽ
-	 * @param seq 
-	 * @param ctx 
+	 * 处理推送过来的数据，累积到最终的结果上
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	public void push(Sequence table, Context ctx) {
 		if (table == null || table.length() == 0) return;
@@ -389,18 +389,18 @@ public class GroupsResult extends IGroupsResult {
 	}
 
 	/**
-	 * ͹αݣۻյĽ
-	 * @param cursor α
+	 * 处理推送过来的游标数据，累积到最终的结果上
+	 * @param cursor 游标数据
 	 */
 	public void push(ICursor cursor) {
 		Context ctx = this.ctx;
 		if (hashUtil != null) {
 			while (true) {
-				// αȡһݡ
+				// 从游标中取得一组数据。
 				Sequence src = cursor.fuzzyFetch(ICursor.FETCHCOUNT);
 				if (src == null || src.length() == 0) break;
 				
-				// ӵִ࣬ͳƺ
+				// 把数据添加到分组结果类，并执行统计函数。
 				addGroups(src, ctx);
 			}
 		} else if (oOpt) {
@@ -442,19 +442,19 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ݣͬʱͳƺ
+	 * 添加数据，同时计算各个统计函数
 	 * 
-	 * @param table	ӵ
+	 * @param table	被添加的数据
 	 */
 	private void addGroups(Sequence table, Context ctx) {
-		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize(); // ϣĴС
-		HashUtil hashUtil = this.hashUtil; // ϣ
-		ListBase1 []groups = this.groups; // ϣ
+		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize(); // 哈希表的大小
+		HashUtil hashUtil = this.hashUtil; // 哈希计算类
+		ListBase1 []groups = this.groups; // 哈希表
 		Expression[] exps = this.exps;
 		int keyCount = this.keyCount;
 		int valCount = null == gathers ? 0 : gathers.length;
 
-		Node []gathers = this.gathers; // ͳƺ
+		Node []gathers = this.gathers; // 统计函数数组
 		Table result = this.result;
 		Object []keys = new Object[keyCount];
 		ComputeStack stack = ctx.getComputeStack();
@@ -464,7 +464,7 @@ public class GroupsResult extends IGroupsResult {
 		try {
 			for (int i = 1, len = table.length(); i <= len; ++i) {
 				current.setCurrent(i);
-				// ݼ¼ɼֵ
+				// 根据记录生成键值
 				for (int k = 0; k < keyCount; ++k) {
 					keys[k] = exps[k].calculate(ctx);
 				}
@@ -628,7 +628,7 @@ public class GroupsResult extends IGroupsResult {
 	}
 
 	/**
-	 * ÷@nѡʹ
+	 * 设置分组数，@n选项使用
 	 * @param groupCount
 	 */
 	public void setGroupCount(int groupCount) {
@@ -656,7 +656,7 @@ public class GroupsResult extends IGroupsResult {
 
 				int index = ((Number)obj).intValue();
 				if (index < 1) {
-					// С1ķŹҪˣٱֵκһ
+					// 碰到小于1的放过不要了，不再报错，不分到任何一组里
 					continue;
 				}
 				
@@ -722,9 +722,9 @@ public class GroupsResult extends IGroupsResult {
 	}
 	
 	/**
-	 * ·ʱ԰·ϲжηܣõյĻܽ
-	 * @param results ·ķɵ
-	 * @return յĻܽ
+	 * 多路运算时对把所有路的运算结果合并进行二次分组汇总，得到最终的汇总结果
+	 * @param results 所有路的分组结果构成的数组
+	 * @return 最终的汇总结果
 	 */
 	public Object combineResult(Object []results) {
 		int count = results.length;
@@ -735,7 +735,7 @@ public class GroupsResult extends IGroupsResult {
 			}
 		}
 		
-		// ·α갴ֶβֵ
+		// 各路游标按分组字段拆分的
 		if (opt != null && opt.indexOf('o') != -1) {
 			return result.derive("o");
 		}
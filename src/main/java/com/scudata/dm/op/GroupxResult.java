@@ -28,53 +28,72 @@ import com.scudata.dm.cursor.MergesCursor;
 import com.scudata.expression.Expression;
 import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
+import com.scudata.util.EnvUtil;
 import com.scudata.util.HashUtil;
 
 /**
- * ڶִаֶν
+ * 用于对推送来的数据执行按多字段进行外存分组汇总运算
  * @author RunQian
  *
  */
 public class GroupxResult implements IResult {
-	private Expression[] exps; // ʽ
-	private String []names; // ֶ
-	private Expression[] calcExps; // ܱʽ
-	private String []calcNames; // ֶ
-	private Context ctx; // 
-	private String opt; // ѡ
-
-	private Node[] gathers = null; // ۺϺ
-	private DataStruct ds; // ݽṹ
-	private HashUtil hashUtil; // ϣߣڼϣֵ
+	private Expression[] exps; // 分组表达式
+	private String []names; // 分组字段名
+	private Expression[] calcExps; // 汇总表达式
+	private String []calcNames; // 汇总字段名
+	private Context ctx; // 计算上下文
+	private String opt; // 选项
+
+	private Node[] gathers = null; // 聚合函数数组
+	private DataStruct ds; // 结果集数据结构
+	private HashUtil hashUtil; // 哈希表工具，用于计算哈希值
 	
-	// Ƿ鲢жλ
+	// 是否采用排序归并法进行二次汇总
 	private boolean isSort = true;
 
-	// 鲢жλ
-	private ListBase1 []groups; // ϣ
-	private Table outTable; // ʱ
-	private int []sortFields; // ֶΣֶΣ
-	private ArrayList<ICursor> cursorList = new ArrayList<ICursor>(); // ʱļӦα
+	// 采用排序归并法进行二次汇总
+	private ListBase1 []groups; // 分组哈希表
+	private Table outTable; // 临时分组结果序表
+	private int []sortFields; // 排序字段（即分组字段）序号
+	private ArrayList<ICursor> cursorList = new ArrayList<ICursor>(); // 分组临时文件对应的游标
 	
-	// ùϣֵļ
-	private RecordTree []recordsArray; // ϣ
-	private int totalRecordCount; // ڴеķ¼
-	private final int fileCount = 29; // ʱļ
-	private FileObject []tmpFiles; // ʱļ
-	private BFileWriter []writers; // дļĶ
+	// 利用哈希把组拆分到多个文件
+	private RecordTree []recordsArray; // 分组哈希表
+	private int totalRecordCount; // 内存中的分组结果记录总数
+	private final int fileCount = 29; // 临时文件数
+	private FileObject []tmpFiles; // 临时文件对象
+	private BFileWriter []writers; // 用于写集文件的对象
+	
+	// 混合哈希分组，设置了Env.getGroupxMemory()时使用，分组按哈希值分成fileCount个分区
+	// 内存不够时只把分组数最多的分区作为部分汇总结果写到临时文件，其它分区继续在内存中汇总
+	private static final int ESTIMATE_COUNT = 1024; // 分组数达到此值时估算分组记录的大小
+	private boolean isHybrid; // 是否采用混合哈希分组
+	private long memory; // 可以使用的内存字节数
+	private int maxGroupCount = -1; // 内存中最多保留的分组数，-1表示还没有估算
+	private int []partitionCounts; // 每个分区在内存中的分组数
+	private BFileWriter []partitionWriters; // 分区的临时文件，空表示分区没有写出过
+	private int spillPartitionCount; // 写出过的分区数
+	private long spillRecordCount; // 写到临时文件的部分汇总记录数
+	private long spillBytes; // 临时文件的字节数
 	
 	/**
-	 * 
-	 * @param exps ʽ
-	 * @param names	ֶ
-	 * @param calcExps ܱʽ	
-	 * @param calcNames	ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @param capacity	ڴб
+	 * 构建外存分组结果对象
+	 * @param exps 分组表达式数组
+	 * @param names	分组字段名数组
+	 * @param calcExps 汇总表达式	数组
+	 * @param calcNames	汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @param capacity	内存中保存的最大分组结果数
 	 */	
 	public GroupxResult(Expression[] exps, String[] names, Expression[] calcExps, 
 			String[] calcNames, String opt, Context ctx, int capacity) {
+		this(exps, names, calcExps, calcNames, opt, ctx, capacity, Env.getGroupxMemory());
+	}
+	
+	// memory为0时采用按分组数写临时文件的外存分组
+	private GroupxResult(Expression[] exps, String[] names, Expression[] calcExps, 
+			String[] calcNames, String opt, Context ctx, int capacity, long memory) {
 		this.exps = exps;
 		this.names = names;
 		this.calcExps = calcExps;
@@ -111,7 +130,20 @@ public class GroupxResult implements IResult {
 		ds.setPrimary(names);
 		this.gathers = Sequence.prepareGatherMethods(this.calcExps, ctx);
 		
-		if (opt == null || opt.indexOf('u') == -1) {
+		this.memory = memory;
+		if (memory > 0) {
+			// 混合哈希分组，@u时结果按分区依次输出，否则每个分区排序后归并
+			isHybrid = true;
+			isSort = opt == null || opt.indexOf('u') == -1;
+			recordsArray = new RecordTree[capacity];
+			partitionCounts = new int[fileCount];
+			partitionWriters = new BFileWriter[fileCount];
+			
+			sortFields = new int[keyCount];
+			for (int i = 0; i < keyCount; ++i) {
+				sortFields[i] = i;
+			}
+		} else if (opt == null || opt.indexOf('u') == -1) {
 			groups = new ListBase1[capacity];
 			outTable = new Table(ds, capacity);
 			outTable.setPrimary(names);
@@ -126,7 +158,7 @@ public class GroupxResult implements IResult {
 		}
 	}
 	
-	// Ҫʱķ鷽
+	// 结果集需要有序时的分组方法
 	private void sortGroup(Sequence table, Context ctx) {
 		ListBase1 []groups = this.groups;
 		Node []gathers = this.gathers;
@@ -273,7 +305,7 @@ public class GroupxResult implements IResult {
 		}
 	}
 	
-	// Ҫʱķ鷽
+	// 结果集不需要排序时的分组方法
 	private void hashGroup(Sequence table, Context ctx) {
 		DataStruct ds = this.ds;
 		RecordTree []recordsArray = this.recordsArray;
@@ -320,7 +352,7 @@ public class GroupxResult implements IResult {
 					RecordTree.Node node = recordsArray[hash].get(keys);
 					r = node.r;
 					
-					// ûҵӦֵļ¼
+					// 数据没有找到相应分组值的记录
 					if (r == null) {
 						r = new Record(ds, keys);
 						node.r = r;
@@ -357,13 +389,165 @@ public class GroupxResult implements IResult {
 		}
 	}
 	
+	// 混合哈希分组方法
+	private void hybridGroup(Sequence table, Context ctx) {
+		DataStruct ds = this.ds;
+		RecordTree []recordsArray = this.recordsArray;
+		int []partitionCounts = this.partitionCounts;
+		Node []gathers = this.gathers;
+		Expression[] exps = this.exps;
+		Expression[] calcExps = this.calcExps;
+		HashUtil hashUtil = this.hashUtil;
+		final int fileCount = this.fileCount;
+		
+		int keyCount = exps.length;
+		int valCount = calcExps == null ? 0 : calcExps.length;
+		Object []keys = new Object[keyCount];
+
+		ComputeStack stack = ctx.getComputeStack();
+		Current current = new Current(table);
+		stack.push(current);
+
+		try {
+			for (int i = 1, len = table.length(); i <= len; ++i) {
+				current.setCurrent(i);
+				for (int k = 0; k < keyCount; ++k) {
+					keys[k] = exps[k].calculate(ctx);
+				}
+
+				BaseRecord r;
+				int hash = hashUtil.hashCode(keys);
+				if (recordsArray[hash] == null) {
+					r = new Record(ds, keys);
+					recordsArray[hash] = new RecordTree(r);
+				} else {
+					RecordTree.Node node = recordsArray[hash].get(keys);
+					r = node.r;
+					
+					if (r != null) {
+						for (int v = 0, f = keyCount; v < valCount; ++v, ++f) {
+							Object val = gathers[v].gather(r.getNormalFieldValue(f), ctx);
+							r.setNormalFieldValue(f, val);
+						}
+						
+						continue;
+					}
+					
+					r = new Record(ds, keys);
+					node.r = r;
+				}
+				
+				// 新产生的分组
+				for (int v = 0, f = keyCount; v < valCount; ++v, ++f) {
+					Object val = gathers[v].gather(ctx);
+					r.setNormalFieldValue(f, val);
+				}
+				
+				partitionCounts[hash % fileCount]++;
+				totalRecordCount++;
+				if (maxGroupCount == -1) {
+					if (totalRecordCount >= ESTIMATE_COUNT) {
+						estimateMaxGroupCount();
+					}
+				} else if (totalRecordCount > maxGroupCount) {
+					spillPartitions();
+				}
+			}
+		} catch(RuntimeException re) {
+			delete();
+			throw re;
+		} catch(Exception e) {
+			delete();
+			throw new RQException(e.getMessage(), e);
+		} finally {
+			stack.pop();
+		}
+	}
+	
+	// 用内存中的分组记录估算每个分组占用的内存，确定内存中最多保留的分组数
+	private void estimateMaxGroupCount() {
+		Sequence seq = new Sequence(ESTIMATE_COUNT);
+		for (RecordTree tree : recordsArray) {
+			if (tree != null) {
+				tree.recursiveTraverse(seq);
+				if (seq.length() >= ESTIMATE_COUNT) {
+					break;
+				}
+			}
+		}
+		
+		// 每个分组还有哈希树节点的开销
+		long size = EnvUtil.estimateRecordSize(seq) + 48;
+		long count = memory / size;
+		if (count < ESTIMATE_COUNT) {
+			maxGroupCount = ESTIMATE_COUNT;
+		} else if (count > Integer.MAX_VALUE) {
+			maxGroupCount = Integer.MAX_VALUE;
+		} else {
+			maxGroupCount = (int)count;
+		}
+	}
+	
+	// 内存中的分组数超过上限时，依次写出分组数最多的分区，直到分组数降到上限的3/4
+	private void spillPartitions() throws IOException {
+		int []partitionCounts = this.partitionCounts;
+		int target = maxGroupCount / 4 * 3;
+		while (totalRecordCount > target) {
+			int p = 0;
+			for (int i = 1; i < fileCount; ++i) {
+				if (partitionCounts[i] > partitionCounts[p]) {
+					p = i;
+				}
+			}
+			
+			spillPartition(p, true);
+		}
+	}
+	
+	// 把分区在内存中的分组作为部分汇总结果写到分区的临时文件
+	private void spillPartition(int p, boolean isLog) throws IOException {
+		RecordTree []recordsArray = this.recordsArray;
+		Sequence seq = new Sequence(partitionCounts[p]);
+		for (int i = p, len = recordsArray.length; i < len; i += fileCount) {
+			if (recordsArray[i] != null) {
+				recordsArray[i].recursiveTraverse(seq);
+				recordsArray[i] = null;
+			}
+		}
+		
+		BFileWriter writer = partitionWriters[p];
+		if (writer == null) {
+			FileObject fo = FileObject.createTempFileObject();
+			if (isLog) {
+				MessageManager mm = EngineMessage.get();
+				Logger.info(mm.getMessage("engine.createTmpFile") + fo.getFileName());
+			}
+			
+			writer = new BFileWriter(fo, null);
+			writer.prepareWrite(ds, false);
+			partitionWriters[p] = writer;
+			spillPartitionCount++;
+		}
+		
+		if (seq.length() > 0) {
+			seq.finishGather1(gathers);
+			writer.write(seq);
+		}
+		
+		totalRecordCount -= partitionCounts[p];
+		partitionCounts[p] = 0;
+		spillRecordCount += seq.length();
+	}
+	
 	/**
-	 * Դ飬ۻз
-	 * @param table 
-	 * @param ctx 
+	 * 对传入的数据做分组，累积到现有分组结果
+	 * @param table 数据
+	 * @param ctx 计算上下文
 	 */
 	public void push(Sequence table, Context ctx) {
-		if (isSort) {
+		if (isHybrid) {
+			hybridGroup(table, ctx);
+		} else if (isSort) {
 			sortGroup(table, ctx);
 		} else {
 			hashGroup(table, ctx);
@@ -371,12 +555,24 @@ public class GroupxResult implements IResult {
 	}
 	
 	/**
-	 * ɾʱļڴ
+	 * 删除临时文件，清空内存数据
 	 */	
 	private void delete() {
 		this.hashUtil = null;
 		
-		if (isSort) {
+		if (isHybrid) {
+			this.recordsArray = null;
+			if (partitionWriters != null) {
+				for (BFileWriter writer : partitionWriters) {
+					if (writer != null) {
+						writer.close();
+						writer.getFile().delete();
+					}
+				}
+				
+				partitionWriters = null;
+			}
+		} else if (isSort) {
 			this.groups = null;
 			this.outTable = null;
 			for (ICursor cursor : cursorList) {
@@ -396,7 +592,7 @@ public class GroupxResult implements IResult {
 		}
 	}
 
-	// ȡҪʱķ鷽ɵĽ
+	// 取结果集需要有序时的分组方法生成的结果集
 	private ICursor sortGroupResult() {
 		ListBase1 []groups = this.groups;
 		if (groups == null) return null;
@@ -451,12 +647,12 @@ public class GroupxResult implements IResult {
 		}
 	}
 	
-	// ȡҪʱķ鷽ɵĽ
+	// 取结果集不需要排序时的分组方法生成的结果集
 	private ICursor hashGroupResult() {
 		RecordTree []recordsArray = this.recordsArray;
 		if (recordsArray == null) return null;
 		
-		// жǷõ
+		// 判断是否用到了外存
 		FileObject []tmpFiles = this.tmpFiles;
 		if (tmpFiles == null) {
 			Sequence seq = new Sequence(totalRecordCount);
@@ -473,14 +669,14 @@ public class GroupxResult implements IResult {
 		}
 		
 		try {
-			// ڴеļ¼дӦļ
+			// 把内存中的记录写到相应的文件
 			writeTempFile(recordsArray);
 		} catch(Exception e) {
 			delete();
 			throw new RQException(e.getMessage(), e);
 		}
 
-		// رд
+		// 关闭写
 		BFileWriter []writers = this.writers;
 		for (BFileWriter writer : writers) {
 			writer.close();
@@ -489,7 +685,7 @@ public class GroupxResult implements IResult {
 		int fileCount = this.fileCount;
 		ICursor []cursors = new ICursor[fileCount];
 		
-		// ȡξۺҪõıʽ
+		// 取二次聚合需要用的表达式
 		int keyCount = exps.length;
 		Expression []keyExps = new Expression[keyCount];
 		for (int i = 0, q = 1; i < keyCount; ++i, ++q) {
@@ -515,12 +711,151 @@ public class GroupxResult implements IResult {
 		return new ConjxCursor(cursors);
 	}
 	
+	// 取混合哈希分组的结果集，内存中的分区直接完成汇总，写出过的分区再对临时文件做二次分组
+	private ICursor hybridGroupResult() {
+		RecordTree []recordsArray = this.recordsArray;
+		if (recordsArray == null) return null;
+		
+		int keyCount = exps.length;
+		Expression []keyExps = new Expression[keyCount];
+		for (int i = 0, q = 1; i < keyCount; ++i, ++q) {
+			keyExps[i] = new Expression(ctx, "#" + q);
+		}
+
+		int valCount = calcExps == null ? 0 : calcExps.length;
+		Expression []valExps = new Expression[valCount];
+		for (int i = 0, q = keyCount + 1; i < valCount; ++i, ++q) {
+			valExps[i] = gathers[i].getRegatherExpression(q);
+		}
+		
+		// 哈希表容量不能再减小时，分区内的分组在二次分组时会落到同一个分区，改用按分组数写临时文件的外存分组
+		int capacity = hashUtil.getPrevCapacity();
+		boolean canPartition = capacity < hashUtil.getCapacity();
+		BFileWriter []writers = this.partitionWriters;
+		ArrayList<ICursor> cursorList = new ArrayList<ICursor>();
+		
+		try {
+			for (int p = 0; p < fileCount; ++p) {
+				if (writers[p] != null) {
+					spillPartition(p, false);
+					writers[p].close();
+					
+					FileObject fo = writers[p].getFile();
+					spillBytes += fo.size();
+					BFileCursor cursor = new BFileCursor(fo, null, "x", ctx);
+					if (canPartition) {
+						cursorList.add(new GroupxCursor(cursor, keyExps, names, valExps, calcNames, opt, ctx, capacity));
+					} else {
+						GroupxResult groupx = new GroupxResult(keyExps, names, valExps, calcNames, opt, ctx, capacity, 0);
+						while (true) {
+							Sequence seq = cursor.fetch(ICursor.INITSIZE);
+							if (seq == null || seq.length() == 0) break;
+							
+							groupx.push(seq, ctx);
+						}
+						
+						ICursor result = groupx.getResultCursor();
+						if (result != null) {
+							cursorList.add(result);
+						}
+					}
+				} else if (partitionCounts[p] > 0) {
+					Table table = new Table(ds, partitionCounts[p]);
+					for (int i = p, len = recordsArray.length; i < len; i += fileCount) {
+						if (recordsArray[i] != null) {
+							recordsArray[i].recursiveTraverse(table);
+							recordsArray[i] = null;
+						}
+					}
+					
+					table.finishGather(gathers);
+					if (isSort) {
+						table.sortFields(sortFields);
+					}
+					
+					cursorList.add(new MemoryCursor(table));
+				}
+			}
+		} catch(Exception e) {
+			for (ICursor cursor : cursorList) {
+				cursor.close();
+			}
+			
+			delete();
+			if (e instanceof RQException) {
+				throw (RQException)e;
+			} else {
+				throw new RQException(e.getMessage(), e);
+			}
+		}
+		
+		if (spillPartitionCount > 0) {
+			MessageManager mm = EngineMessage.get();
+			Logger.info(mm.getMessage("engine.groupxSpill", Integer.toString(spillPartitionCount), 
+					Integer.toString(fileCount), Long.toString(spillRecordCount), Long.toString(spillBytes)));
+		}
+		
+		this.hashUtil = null;
+		this.recordsArray = null;
+		this.partitionWriters = null;
+		
+		int size = cursorList.size();
+		if (size == 0) {
+			return isSort ? null : new MemoryCursor(new Sequence(0));
+		} else if (size == 1) {
+			return cursorList.get(0);
+		}
+		
+		ICursor []cursors = new ICursor[size];
+		cursorList.toArray(cursors);
+		if (isSort) {
+			// 分区之间没有相同的分组，归并后整体有序
+			return new MergesCursor(cursors, keyExps, ctx);
+		} else {
+			return new ConjxCursor(cursors);
+		}
+	}
+	
+	/**
+	 * 返回写出过临时文件的分区数，用于调整外存分组可以使用的内存
+	 * @return int
+	 */
+	public int getSpillPartitionCount() {
+		return spillPartitionCount;
+	}
+	
+	/**
+	 * 返回混合哈希分组的分区数
+	 * @return int
+	 */
+	public int getPartitionCount() {
+		return fileCount;
+	}
+	
+	/**
+	 * 返回写到临时文件的部分汇总记录数
+	 * @return long
+	 */
+	public long getSpillRecordCount() {
+		return spillRecordCount;
+	}
+	
 	/**
-	 * ؽα
+	 * 返回临时文件的字节数，取结果游标后有效
+	 * @return long
+	 */
+	public long getSpillBytes() {
+		return spillBytes;
+	}
+	
+	/**
+	 * 返回结果游标
 	 * @return ICursor
 	 */
 	public ICursor getResultCursor() {
-		if (isSort) {
+		if (isHybrid) {
+			return hybridGroupResult();
+		} else if (isSort) {
 			return sortGroupResult();
 		} else {
 			return hashGroupResult();
@@ -528,14 +863,14 @@ public class GroupxResult implements IResult {
 	}
 	
 	/**
-	 * ͽʱ
-	 * @param ctx 
+	 * 数据推送结束时调用
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
 	}
 	
 	/**
-	 * ؼ
+	 * 返回计算结果
 	 * @return Object
 	 */
 	public Object result() {
@@ -543,7 +878,7 @@ public class GroupxResult implements IResult {
 	}
 	
 	/**
-	 * ִ֧˷
+	 * 不支持此方法
 	 */
 	public Object combineResult(Object []results) {
 		throw new RuntimeException();
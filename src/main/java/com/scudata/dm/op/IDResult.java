@@ -14,18 +14,18 @@ import com.scudata.expression.Expression;
 import com.scudata.util.HashUtil;
 
 /**
- * ڶȡȥغֵֶ
+ * 用于对推送来的数据取去重后的字段值
  * @author RunQian
  *
  */
 public class IDResult implements IResult {
-	private Expression[] exps; // ȥֶαʽ
-	private int count; // ĽʡԱ
+	private Expression[] exps; // 去重字段表达式数组
+	private int count; // 保留的结果数量，省略保留所有
 	private String opt;
-	private Context ctx; // 
+	private Context ctx; // 计算上下文
 	
-	private HashUtil hashUtil; // ṩϣĹϣ
-	private ListBase1 [][]allGroups; // ϣ
+	private HashUtil hashUtil; // 提供哈希运算的哈希类
+	private ListBase1 [][]allGroups; // 哈希表
 	private Sequence []outs;
 
 	public IDResult(Expression []exps, int count, String opt, Context ctx) {
@@ -50,7 +50,7 @@ public class IDResult implements IResult {
 	}
 
 	/**
-	 * ȡȥغĽ
+	 * 取去重后的结果
 	 * @return Sequence
 	 */
 	public Sequence getResultSequence() {
@@ -67,14 +67,14 @@ public class IDResult implements IResult {
 	}
 	
 	/**
-	 * ͽʱ
-	 * @param ctx 
+	 * 数据推送结束时调用
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
 	}
 	
 	/**
-	 * ȡȥغĽ
+	 * 取去重后的结果
 	 * @return Object
 	 */
 	public Object result() {
@@ -82,9 +82,9 @@ public class IDResult implements IResult {
 	}
 	
 	/**
-	 * ͹ݣۻյĽ
-	 * @param seq 
-	 * @param ctx 
+	 * 处理推送过来的数据，累积到最终的结果上
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	public void push(Sequence table, Context ctx) {
 		if (table == null || table.length() == 0) return;
@@ -93,8 +93,8 @@ public class IDResult implements IResult {
 	}
 
 	/**
-	 * ͹αݣۻյĽ
-	 * @param cursor α
+	 * 处理推送过来的游标数据，累积到最终的结果上
+	 * @param cursor 游标数据
 	 */
 	public void push(ICursor cursor) {
 		Context ctx = this.ctx;
@@ -155,7 +155,7 @@ public class IDResult implements IResult {
 	}
 
 	/**
-	 * ֲ֧
+	 * 不支持并行运算
 	 */
 	public Object combineResult(Object []results) {
 		throw new RuntimeException();
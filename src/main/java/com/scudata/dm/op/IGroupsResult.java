@@ -9,19 +9,19 @@ import com.scudata.dm.cursor.ICursor;
 import com.scudata.expression.Expression;
 
 /**
- * ڴܽ
+ * 内存分组汇总结果基类
  * @author RunQian
  *
  */
 abstract public class IGroupsResult implements IResult {
 	/**
-	 * ݲȡڴܴ
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 根据参数取内存分组汇总处理类
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return IGroupsResult
 	 */
 	public static IGroupsResult instance(Expression[] exps, String[] names, Expression[] calcExps, 
@@ -64,14 +64,14 @@ abstract public class IGroupsResult implements IResult {
 	}
 	
 	/**
-	 * ݲȡڴܴ
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @param capacity ڷĹϣ
+	 * 根据参数取内存分组汇总处理类
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @param capacity 用于分组运算的哈希表容量
 	 * @return IGroupsResult
 	 */
 	public static IGroupsResult instance(Expression[] exps, String[] names, Expression[] calcExps, 
@@ -111,79 +111,79 @@ abstract public class IGroupsResult implements IResult {
 	}
 	
 	/**
-	 * ȡʽ
-	 * @return ʽ
+	 * 取分组表达式
+	 * @return 表达式数组
 	 */
 	abstract public Expression[] getExps();
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取分组字段名
+	 * @return 字段名数组
 	 */
 	abstract public String[] getNames();
 
 	/**
-	 * ȡܱʽ
-	 * @return ʽ
+	 * 取汇总表达式
+	 * @return 表达式数组
 	 */
 	abstract public Expression[] getCalcExps();
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取汇总字段名
+	 * @return 字段名数组
 	 */
 	abstract public String[] getCalcNames();
 
 	/**
-	 * ȡѡ
+	 * 取选项
 	 * @return
 	 */
 	abstract public String getOption();
 	
 	/**
-	 * ȡǷ
-	 * @return trueǣݰֶfalse
+	 * 取是否是有序分组
+	 * @return true：是，数据按分组字段有序，false：不是
 	 */
 	abstract public boolean isSortedGroup();
 
 	/**
-	 * ȡλܱʽڶ̷߳
+	 * 取二次汇总表达式，用于多线程分组
 	 * @return
 	 */
 	abstract public Expression[] getRegatherExpressions();
 	
 	/**
-	 * ȡλݽṹ
+	 * 取二次汇总数据结构
 	 * @return DataStruct
 	 */
 	abstract public DataStruct getRegatherDataStruct();
 	
 	/**
-	 * ȡλܺڼսıʽavgֳܱsumcountнм
+	 * 取二次汇总后用于计算最终结果的表达式，avg可能被分成sum、count两列进行计算
 	 * @return
 	 */
 	abstract public Expression[] getResultExpressions();
 
 	/**
-	 * ȡݽṹ
+	 * 取结果集数据结构
 	 * @return DataStruct
 	 */
 	abstract public DataStruct getResultDataStruct();
 	
 	/**
-	 * ʱȡÿ̵߳мҪжλ
+	 * 并行运算时，取出每个线程的中间计算结果，还需要进行二次汇总
 	 * @return Table
 	 */
 	abstract public Table getTempResult();
 	
 	/**
-	 * ȡܽ
+	 * 取分组汇总结果
 	 * @return Table
 	 */
 	abstract public Table getResultTable();
 	
 	 /**
-	  * ͽȡյļ
+	  * 数据推送结束，取最终的计算结果
 	  * @return
 	  */
 	public Object result() {
@@ -191,50 +191,50 @@ abstract public class IGroupsResult implements IResult {
 	}
 	
 	/**
-	 * ͹ݣۻյĽ
-	 * @param seq 
-	 * @param ctx 
+	 * 处理推送过来的数据，累积到最终的结果上
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	abstract public void push(Sequence table, Context ctx);
 
 	/**
-	 * ͹αݣۻյĽ
-	 * @param cursor α
+	 * 处理推送过来的游标数据，累积到最终的结果上
+	 * @param cursor 游标数据
 	 */
 	abstract public void push(ICursor cursor);
 
 	/**
-	 * ͹αݣۻյĽ
-	 * @param reader α
+	 * 处理推送过来的游标数据，累积到最终的结果上
+	 * @param reader 游标数据
 	 */
 	public void push(GroupsSyncReader reader, int hashStart, int hashEnd) {
 		throw new RuntimeException();
 	}
 	
 	/**
-	 * ÷@zѡʹ
+	 * 设置分组数，@z选项使用
 	 * @param groupCount
 	 */
 	public void setCapacity(int capacity) {
 	}
 	
 	/**
-	 * ÷@nѡʹ
+	 * 设置分组数，@n选项使用
 	 * @param groupCount
 	 */
 	abstract public void setGroupCount(int groupCount);
 	
 	/**
-	 * ·ʱ԰·ϲжηܣõյĻܽ
-	 * @param results ·ķɵ
-	 * @return յĻܽ
+	 * 多路运算时对把所有路的运算结果合并进行二次分组汇总，得到最终的汇总结果
+	 * @param results 所有路的分组结果构成的数组
+	 * @return 最终的汇总结果
 	 */
 	abstract public Object combineResult(Object []results);
 	
 	/**
-	 * ·α겢зɺкϲշ
+	 * 多路游标并行分组完成后进行合并，生成最终分组结果
 	 * @param others
-	 * @param ctx 
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Table combineGroupsResult(IGroupsResult []others, Context ctx) {
@@ -251,7 +251,7 @@ abstract public class IGroupsResult implements IResult {
 			return result;
 		}
 		
-		// ɶηܱʽavgֳܱsumcountнм
+		// 生成二次分组汇总表达式，avg可能被分成sum、count两列进行计算
 		Expression []valExps = getRegatherExpressions();
 		DataStruct tempDs = getRegatherDataStruct();
 		int tempFieldCount = tempDs.getFieldCount();
@@ -263,7 +263,7 @@ abstract public class IGroupsResult implements IResult {
 			keyCount = tempFieldCount;
 		}
 		
-		// ɶηʽ
+		// 生成二次分组分组表达式
 		Expression []keyExps = null;
 		String []names = null;
 		if (keyCount > 0) {
@@ -284,7 +284,7 @@ abstract public class IGroupsResult implements IResult {
 			}
 		}
 		
-		// жη
+		// 进行二次分组
 		result = result.groups(keyExps, names, valExps, calcNames, getOption(), ctx);
 		Expression []newExps = getResultExpressions();
 		if (newExps != null) {
@@ -4,20 +4,20 @@ import com.scudata.dm.Context;
 import com.scudata.dm.Sequence;
 
 /**
- * ܵӿ
+ * 管道接口
  * @author RunQian
  *
  */
 public interface IPipe {
 	/**
-	 * ܵ
-	 * @param seq 
-	 * @param ctx 
+	 * 往管道推送数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	void push(Sequence seq, Context ctx);
 	
 	/**
-	 * ͽ
+	 * 数据推送结束
 	 * @param ctx
 	 */
 	void finish(Context ctx);
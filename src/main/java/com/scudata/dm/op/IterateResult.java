@@ -9,16 +9,16 @@ import com.scudata.dm.Sequence;
 import com.scudata.expression.Expression;
 
 /**
- * ڹܵĵ
+ * 迭代结果集，用于管道的迭代运算
  * @author WangXiaoJun
  *
  */
 public class IterateResult implements IResult {
-	private Expression exp; // ʽ
-	private Object prevValue; // ǰһε
-	private Expression c; // ʽ
+	private Expression exp; // 迭代表达式
+	private Object prevValue; // 前一次迭代结果
+	private Expression c; // 结束条件表达式
 	
-	private boolean sign = false; // Ƿ
+	private boolean sign = false; // 是否满足结束条件
 	
 	public IterateResult(Expression exp, Object initVal, Expression c, Context ctx) {
 		this.exp = exp;
@@ -27,9 +27,9 @@ public class IterateResult implements IResult {
 	}
 	
 	/**
-	 * 
-	 * @param table 
-	 * @param ctx ģܶ߳ܵݣҪʹ߳Լģܳ
+	 * 迭代推送来的数据
+	 * @param table 数据
+	 * @param ctx 计算上下文，可能多个线程往管道推送数据，需要使用线程自己的上下文，否则计算可能出错
 	 */
 	public void push(Sequence table, Context ctx) {
 		if (table == null || table.length() == 0 || sign) return;
@@ -58,7 +58,7 @@ public class IterateResult implements IResult {
 					current.setCurrent(i);
 					Object obj = c.calculate(ctx);
 					
-					// Ϊ򷵻
+					// 如果条件为真则返回
 					if (obj instanceof Boolean && ((Boolean)obj).booleanValue()) {
 						sign = true;
 						break;
@@ -76,14 +76,14 @@ public class IterateResult implements IResult {
 	}
 	
 	/**
-	 * ͽʱ
-	 * @param ctx 
+	 * 数据推送结束时调用
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
 	}
 	
 	/**
-	 * ͽȡյļ
+	 * 数据推送结束，取最终的计算结果
 	 * @return
 	 */
 	public Object result() {
@@ -91,7 +91,7 @@ public class IterateResult implements IResult {
 	}
 	
 	/**
-	 * ˺ֲ֧
+	 * 此函数不支持并行运算
 	 */
 	public Object combineResult(Object []results) {
 		throw new RQException("Unimplemented function.");
@@ -2,6 +2,7 @@ package com.scudata.dm.op;
 
 import java.util.ArrayList;
 
+import com.scudata.array.IArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.BaseRecord;
@@ -14,6 +15,7 @@ import com.scudata.dm.IndexTable;
 import com.scudata.dm.Record;
 import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
+import com.scudata.dw.compress.ArrayColumnList;
 import com.scudata.dw.compress.Column;
 import com.scudata.dw.compress.ColumnList;
 import com.scudata.expression.CurrentElement;
@@ -23,30 +25,30 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵjoin
+ * 对游标或管道附加join运算
  * @author WangXiaoJun
  *
  */
 public class Join extends Operation {
-	private String fname; // @oѡʹãԭ¼Ϊ¼¼ֶ
-	private Expression [][]exps; // ֶαʽ
-	private Sequence []codes; // 
-	private Expression [][]dataExps; // ʽ
-	private Expression [][]newExps; // ȡĴֶαʽ
-	private String [][]newNames; // ȡĴֶ
-	private String opt; // ѡ
+	private String fname; // @o选项是使用，原记录整个作为新记录的字段
+	private Expression [][]exps; // 关联字段表达式数组
+	private Sequence []codes; // 代码表数组
+	private Expression [][]dataExps; // 代码表主键表达式数组
+	private Expression [][]newExps; // 取出的代码表的字段表达式数组
+	private String [][]newNames; // 取出的代码表的字段名数组
+	private String opt; // 选项
 	
-	private DataStruct oldDs; // Դݽṹ
-	private DataStruct newDs; // ݽṹ
-	private IndexTable []indexTables; // hashֵ
-	private int [][]srcIndexs; // expsֶdataλ
-	private int [][]refIndexs; // newExpsֶڴλ
-	private int [][]tgtIndexs; // newExpsֶڽλ
+	private DataStruct oldDs; // 源表数据结构
+	private DataStruct newDs; // 结果集数据结构
+	private IndexTable []indexTables; // 代码表按hash值分组
+	private int [][]srcIndexs; // exps字段在data的位置
+	private int [][]refIndexs; // newExps字段在代码表的位置
+	private int [][]tgtIndexs; // newExps字段在结果集的位置
 	
-	private boolean isIsect; // ӣĬΪ
+	private boolean isIsect; // 交连接，默认为左连接
 	private boolean isOrg;
-	private boolean containNull; // ǷеĴΪ
-	private boolean isMerge; // Ƿʹù鲢йбֶ
+	private boolean containNull; // 是否有的代码表为空
+	private boolean isMerge; // 是否使用归并法进行关联（所有表按关联字段有序）
 	
 	public Join(String fname, Expression[][] exps, Sequence[] codes,
 			  Expression[][] dataExps, Expression[][] newExps,
@@ -80,7 +82,7 @@ public class Join extends Operation {
 			if (codes[i] == null) {
 				containNull = true;
 			} else if (codes[i].length() == 0 && codes[i].getIndexTable() == null) {
-				// ĸ¼Ϊ0
+				// 组表的附表记录数为0但有索引
 				codes[i] = null;
 				containNull = true;
 			}
@@ -97,7 +99,7 @@ public class Join extends Operation {
 				}
 			}
 			
-			// x~ʱڽм¼FC:ӦϵʶԤ
+			// x是~时，在结果序表中记录F和C:…对应关系用于识别预关联外键
 			if (curLen == 1 && curExps[0].getHome() instanceof CurrentElement) {
 				Expression []srcExps = exps[i];
 				int srcCount = srcExps.length;
@@ -115,17 +117,17 @@ public class Join extends Operation {
 	}
 	
 	/**
-	 * ȡǷԪ˺ټ¼
-	 * ˺αľȷȡӵĲʹ¼ֻ谴ȡ
-	 * @return trueᣬfalse
+	 * 取操作是否会减少元素数，比如过滤函数会减少记录
+	 * 此函数用于游标的精确取数，如果附加的操作不会使记录数减少则只需按传入的数量取数即可
+	 * @return true：会，false：不会
 	 */
 	public boolean isDecrease() {
 		return isIsect;
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -177,7 +179,7 @@ public class Join extends Operation {
 				tgtIndexs[i] = tmp;
 				
 				for (int f = 0; f < curLen; ++f) {
-					// ¼ӵֶԴѴдֶ
+					// 如果新加的字段在源表中已存在则改写现有字段
 					int index = oldDs.getFieldIndex(curNames[f]);
 					if (index == -1) {
 						tmp[f] = seq.length();
@@ -313,7 +315,7 @@ public class Join extends Operation {
 					throw new RQException("join" + mm.getMessage("function.invalidParam"));
 				}
 
-				// #
+				// 如果不是用#关联则生成索引表
 				if (fcount != 1 || !(curExps[0].getHome() instanceof CurrentSeq)) {
 					indexTable = code.getIndexTable(curExps, ctx);
 					if (indexTable == null) {
@@ -329,9 +331,9 @@ public class Join extends Operation {
 	}
 	
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -349,7 +351,7 @@ public class Join extends Operation {
 		Table result = new Table(newDs, len);
 		ComputeStack stack = ctx.getComputeStack();
 		
-		// CǰFһjoin
+		// 允许后面C引用前面的F，可以一次性join多层
 		
 		if (isOrg) {
 			for (int i = 1; i <= len; ++i) {
@@ -600,7 +602,8 @@ public class Join extends Operation {
 		int fkCount = exps.length;
 		
 		if (fkCount == 1) {
-			if (codes[0].getMems() instanceof ColumnList) {
+			IArray codeMems = codes[0].getMems();
+			if (codeMems instanceof ColumnList && !(codeMems instanceof ArrayColumnList)) {
 				return join_i_1_c(data, ctx);
 			} else {
 				return join_i_1(data, ctx);
@@ -759,7 +762,7 @@ public class Join extends Operation {
 		}
 	}
 	
-	//codesֻ1ʱ
+	//codes只有1组数据时
 	private Table join_i_1(Sequence data, Context ctx) {
 		Expression []exps = this.exps[0];
 		Expression []newExps = this.newExps[0];
@@ -910,7 +913,7 @@ public class Join extends Operation {
 		}
 	}
 	
-	//codesֻ1codeѹʱ
+	//codes只有1组数据且code是压缩表时
 	private Table join_i_1_c(Sequence data, Context ctx) {
 		Expression []exps = this.exps[0];
 		Expression []newExps = this.newExps[0];
@@ -933,7 +936,7 @@ public class Join extends Operation {
 		int []srcIndexs = this.srcIndexs[0];
 		int []tgtIndexs = this.tgtIndexs[0];
 		
-		//жǷfindex˳ǷȻ˳
+		//判断是否findex里的顺序是否就是自然顺序
 		boolean eindexIsOrder = true;
 		for (int f = 0; f < expsCount; ++f) {
 			if (f != srcIndexs[f]) {
@@ -23,29 +23,29 @@ import com.scudata.parallel.ClusterMemoryTable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵjoin㣬ӵıаԶ̱
+ * 对游标或管道附加join运算，连接的表中包含远程表
  * @author WangXiaoJun
  *
  */
 public class JoinRemote extends Operation {
-	private String fname; // @oѡʹãԭ¼Ϊ¼¼ֶ
-	private Expression [][]exps; // ֶαʽ
-	private Object[] datas; // 
-	private Expression [][]dataExps; // ʽ
-	private Expression [][]newExps; // ȡĴֶαʽ
-	private String [][]newExpStrs; // ȡĴֶαʽַ
-	private String [][]newNames; // ȡĴֶ
-	private String opt; // ѡ
+	private String fname; // @o选项是使用，原记录整个作为新记录的字段
+	private Expression [][]exps; // 关联字段表达式数组
+	private Object[] datas; // 代码表数组
+	private Expression [][]dataExps; // 代码表主键表达式数组
+	private Expression [][]newExps; // 取出的代码表的字段表达式数组
+	private String [][]newExpStrs; // 取出的代码表的字段表达式字符串
+	private String [][]newNames; // 取出的代码表的字段名数组
+	private String opt; // 选项
 	
-	private DataStruct oldDs; // Դݽṹ
-	private DataStruct newDs; // ݽṹ
-	private IndexTable []indexTables; // hashֵ
-	private Sequence []codes; // ش飬ĳǼȺӦλΪ
-	private ClusterMemoryTable []cts; // Ⱥ飬ĳǱشӦλΪ
+	private DataStruct oldDs; // 源表数据结构
+	private DataStruct newDs; // 结果集数据结构
+	private IndexTable []indexTables; // 代码表按hash值分组
+	private Sequence []codes; // 本地代码表数组，如果某项是集群代码表则相应位置为空
+	private ClusterMemoryTable []cts; // 集群代码表数组，如果某项是本地代码表则相应位置为空
 	
-	private boolean isIsect; // ӣĬΪ
+	private boolean isIsect; // 交连接，默认为左连接
 	private boolean isOrg;
-	private boolean containNull; // ǷеĴΪ
+	private boolean containNull; // 是否有的代码表为空
 	
 	public JoinRemote(String fname, Expression[][] exps, 
 			Object[] datas, Expression[][] dataExps, 
@@ -91,7 +91,7 @@ public class JoinRemote extends Operation {
 				}
 			}
 			
-			// x~ʱڽм¼FC:ӦϵʶԤ
+			// x是~时，在结果序表中记录F和C:…对应关系用于识别预关联外键
 			if (curLen == 1 && curExps[0].getHome() instanceof CurrentElement) {
 				Expression []srcExps = exps[i];
 				int srcCount = srcExps.length;
@@ -109,17 +109,17 @@ public class JoinRemote extends Operation {
 	}
 	
 	/**
-	 * ȡǷԪ˺ټ¼
-	 * ˺αľȷȡӵĲʹ¼ֻ谴ȡ
-	 * @return trueᣬfalse
+	 * 取操作是否会减少元素数，比如过滤函数会减少记录
+	 * 此函数用于游标的精确取数，如果附加的操作不会使记录数减少则只需按传入的数量取数即可
+	 * @return true：会，false：不会
 	 */
 	public boolean isDecrease() {
 		return isIsect;
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -215,7 +215,7 @@ public class JoinRemote extends Operation {
 						throw new RQException("join" + mm.getMessage("function.invalidParam"));
 					}
 
-					// #
+					// 如果不是用#关联则生成索引表
 					if (fcount != 1 || !(curExps[0].getHome() instanceof CurrentSeq)) {
 						indexTable = codes[i].getIndexTable(curExps, ctx);
 						if (indexTable == null) {
@@ -238,9 +238,9 @@ public class JoinRemote extends Operation {
 	}
 	
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -12,7 +12,7 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.Function;
 
 /**
- * ·ܵ󣬹ܵԸӶ㣬ֻܶһֽ
+ * 多路管道对象，管道可以附加多种运算，但只能定义一种结果集运算
  * @author WangXiaoJun
  *
  */
@@ -20,20 +20,20 @@ public class MultipathChannel extends Channel {
 	private Channel []channels;
 	
 	/**
-	 * ɶ·α깹·ܵ
-	 * @param ctx 
-	 * @param mcs ·α
+	 * 由多路游标构建多路管道
+	 * @param ctx 计算上下文
+	 * @param mcs 多路游标
 	 */
 	public MultipathChannel(Context ctx, MultipathCursors mcs) {
 		this(ctx, mcs, true);
 	}
 	
 	/**
-	 * ɶ·α깹·ܵ
-	 * @param ctx 
-	 * @param mcs ·α
-	 * @param doPush Ƿαpush
-		αfetch@0һݣܵ㻹û͸α긽pushᵼ»ûбܵӵ
+	 * 由多路游标构建多路管道
+	 * @param ctx 计算上下文
+	 * @param mcs 多路游标
+	 * @param doPush 是否对游标生成push操作
+		游标可能fetch@0缓存了一部分数据，如果管道的运算还没定义完就给游标附加push，会导致缓存的数据没有被管道后来附加的运算计算
 	 */
 	public MultipathChannel(Context ctx, MultipathCursors mcs, boolean doPush) {
 		super(ctx);
@@ -48,7 +48,7 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * αpushݵܵĲ
+	 * 给游标添加push数据到管道的操作
 	 * @param cs
 	 */
 	public void addPushToCursor(ICursor cs) {
@@ -63,9 +63,9 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * Ϊܵ
-	 * @param op 
-	 * @param ctx 
+	 * 为管道附加运算
+	 * @param op 运算
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable addOperation(Operation op, Context ctx) {
@@ -78,11 +78,11 @@ public class MultipathChannel extends Channel {
 		return this;
 	}
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param fltExp 
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 过滤
+	 * @param function 对应的函数
+	 * @param fltExp 过滤条件
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable select(Function function, Expression fltExp, String opt, Context ctx) {
@@ -98,12 +98,12 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param fltExp 
-	 * @param opt ѡ
-	 * @param pipe ڴĳԱ
-	 * @param ctx 
+	 * 过滤
+	 * @param function 对应的函数
+	 * @param fltExp 过滤条件
+	 * @param opt 选项
+	 * @param pipe 用于处理不满足条件的成员
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable select(Function function, Expression fltExp, String opt, IPipe pipe, Context ctx) {
@@ -119,13 +119,13 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * ӹˣܹϵ
-	 * @param function Ӧĺ
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 进行连接过滤，保留能关联上的
+	 * @param function 对应的函数
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable filterJoin(Function function, Expression[][] exps, Sequence[] codes, Expression[][] dataExps, String opt, Context ctx) {
@@ -142,13 +142,13 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * ӹˣܹϵ
-	 * @param function Ӧĺ
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 进行连接过滤，保留能关联不上的
+	 * @param function 对应的函数
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable diffJoin(Function function, Expression[][] exps, Sequence[] codes, Expression[][] dataExps, String opt, Context ctx) {
@@ -165,16 +165,16 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
+	 * 做连接
+	 * @param function 对应的函数
 	 * @param fname
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
 	 * @param newExps
 	 * @param newNames
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable join(Function function, String fname, Expression[][] exps, Sequence[] codes,
@@ -193,16 +193,16 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * Զ̱
-	 * @param function Ӧĺ
+	 * 与远程表做连接
+	 * @param function 对应的函数
 	 * @param fname
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
 	 * @param newExps
 	 * @param newNames
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable joinRemote(Function function, String fname, Expression[][] exps, 
@@ -222,13 +222,13 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * Ӽ
-	 * @param function Ӧĺ
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param opt ѡ
+	 * 添加计算列
+	 * @param function 对应的函数
+	 * @param exps 计算表达式数组
+	 * @param names 字段名数组
+	 * @param opt 选项
 	 * @param level
-	 * @param ctx 
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable derive(Function function, Expression []exps, String []names, String opt, int level, Context ctx) {
@@ -244,12 +244,12 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param newExps ʽ
-	 * @param names ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 产生新序表
+	 * @param function 对应的函数
+	 * @param newExps 计算表达式数组
+	 * @param names 字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable newTable(Function function, Expression []newExps, String []names, String opt, Context ctx) {
@@ -265,11 +265,11 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 分组表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression []exps, String opt, Context ctx) {
@@ -285,12 +285,12 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ǰ벿ķֶαʽ
-	 * @param sortExps 벿ķֶαʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 前半部分有序的分组字段表达式
+	 * @param sortExps 后半部分无序的分组字段表达式
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression []exps, Expression []sortExps, String opt, Context ctx) {
@@ -307,14 +307,14 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param newExps ܱʽ
-	 * @param newNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression[] exps, String []names, 
@@ -332,16 +332,16 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ǰ벿ķֶαʽ
-	 * @param names ֶ
-	 * @param sortExps 벿ķֶαʽ
-	 * @param sortNames ֶ
-	 * @param newExps ܱʽ
-	 * @param newNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 前半部分有序的分组字段表达式
+	 * @param names 字段名数组
+	 * @param sortExps 后半部分无序的分组字段表达式
+	 * @param sortNames 字段名数组
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression[] exps, String []names, 
@@ -361,14 +361,14 @@ public class MultipathChannel extends Channel {
 	}
 
 	/**
-	 * Ӽ
-	 * @param function ĺ
-	 * @param fkNames ֶ
-	 * @param timeFkNames ʱ
-	 * @param codes ά
-	 * @param exps ά
-	 * @param timeExps άʱ¼
-	 * @param opt ѡ
+	 * 连接计算
+	 * @param function 所属的函数对象
+	 * @param fkNames 外键字段名数组
+	 * @param timeFkNames 时间外键名数组
+	 * @param codes 维表数组
+	 * @param exps 维表主键数组
+	 * @param timeExps 维表的时间更新键数组
+	 * @param opt 选项
 	 */
 	public Operable switchFk(Function function, String[] fkNames, String[] timeFkNames, Sequence[] codes, Expression[] exps, Expression[] timeExps, String opt, Context ctx) {
 		checkResultChannel();
@@ -384,18 +384,18 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * ǷѾн
+	 * 检查是否已经有结果集函数了
 	 */
 	protected void checkResultChannel() {
 		if (result != null) {
-			throw new RQException("ӽ֮ټ");
+			throw new RQException("附加结果集之后不能再继续附加其它运算");
 		}
 	}
 	
 	/**
-	 * ܵݣܻжԴͬʱܵ
-	 * @param seq 
-	 * @param ctx 
+	 * 往管道推送数据，可能会有多个源同时往管道推送数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	public synchronized void push(Sequence seq, Context ctx) {
 		if (result != null && seq != null) {
@@ -404,18 +404,18 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * ͽʱãЩӵĲỺݣҪfinishĴ
-	 * @param ctx 
+	 * 数据推送结束时调用，有些附加的操作会缓存数据，需要调用finish进行最后的处理
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
-		// ÿ·ĹܵѾùfinish
+		// 每路的管道已经调用过finish
 		//for (Channel channel : channels) {
 		//	channel.finish(ctx);
 		//}
 	}
 	
 	/**
-	 * عܵļ
+	 * 返回管道的计算结果
 	 * @return
 	 */
 	public Object result() {
@@ -471,7 +471,7 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * ܵǰΪ
+	 * 保留管道当前数据做为结果集
 	 * @return
 	 */
 	public Channel fetch() {
@@ -488,8 +488,8 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * ܵǰݵļ
-	 * @param file ļ
+	 * 保留管道当前数据到集文件
+	 * @param file 集文件
 	 * @return this
 	 */
 	public Channel fetch(FileObject file) {
@@ -506,12 +506,12 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * Թܵǰݽз㲢Ϊ
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param calcExps ܱʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
+	 * 对管道当前数据进行分组运算并做为结果集
+	 * @param exps 分组表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总表达式数组
+	 * @param calcNames 汇总字段名
+	 * @param opt 选项
 	 * @return
 	 */
 	public Channel groups(Expression[] exps, String[] names,
@@ -530,8 +530,8 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * Թܵǰݽл㲢Ϊ
-	 * @param calcExps ܱʽ
+	 * 对管道当前数据进行汇总运算并做为结果集
+	 * @param calcExps 汇总表达式
 	 * @return
 	 */
 	public Channel total(Expression[] calcExps) {
@@ -548,13 +548,13 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * Թܵǰݽ㲢Ϊ
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param calcExps ܱʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param capacity ڴԴŵķ
+	 * 对管道当前数据进行外存分组运算并做为结果集
+	 * @param exps 分组表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总表达式数组
+	 * @param calcNames 汇总字段名
+	 * @param opt 选项
+	 * @param capacity 内存可以存放的分组结果数量
 	 * @return
 	 */
 	public Channel groupx(Expression[] exps, String[] names,
@@ -572,10 +572,10 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * Թܵǰݽ㲢Ϊ
-	 * @param exps ʽ
-	 * @param capacity ڴԴŵļ¼
-	 * @param opt ѡ
+	 * 对管道当前数据进行外存排序运算并做为结果集
+	 * @param exps 排序表达式数组
+	 * @param capacity 内存可以存放的记录数量
+	 * @param opt 选项
 	 * @return
 	 */
 	public Channel sortx(Expression[] exps, int capacity, String opt) {
@@ -592,7 +592,7 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * Թܵǰݽ㲢Ϊ
+	 * 对管道当前数据进行连接运算并做为结果集
 	 * @param fields
 	 * @param fileTable
 	 * @param keys
@@ -619,11 +619,11 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * Թܵǰݽе㲢Ϊ
-	 * @param exp ʽ
-	 * @param initVal ʼֵ
-	 * @param c ʽcΪǰ
-	 * @param ctx 
+	 * 对管道当前数据进行迭代运算并作为结果集
+	 * @param exp 迭代表达式
+	 * @param initVal 初始值
+	 * @param c 条件表达式，迭代过程中c为真则提前结束
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Channel iterate(Expression exp, Object initVal, Expression c, Context ctx) {
@@ -640,10 +640,10 @@ public class MultipathChannel extends Channel {
 	}
 	
 	/**
-	 * Թܵǰݽȥ㲢Ϊ
-	 * @param exps ȥرʽ
+	 * 对管道当前数据进行去重运算并作为结果集
+	 * @param exps 去重表达式
 	 * @param count
-	 * @param opt ѡ
+	 * @param opt 选项
 	 * @return
 	 */
 	public Channel id(Expression []exps, int count, String opt) {
@@ -7,16 +7,16 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.Function;
 
 /**
- * αܵĸӵĲ㴦
+ * 游标或管道的附加的产生序表计算处理类
  * cs.new(...)
  * @author RunQian
  *
  */
 public class New extends Operation  {
-	private Expression []newExps; // ֶαʽ
-	private String []names; // ֶ
-	private String opt; // ѡ
-	private DataStruct newDs; // ṹݽṹ
+	private Expression []newExps; // 字段表达式数组
+	private String []names; // 字段名数组
+	private String opt; // 选项
+	private DataStruct newDs; // 结构集数据结构
 	
 	public New(Expression []newExps, String []names, String opt) {
 		this(null, newExps, names, opt);
@@ -33,8 +33,8 @@ public class New extends Operation  {
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -43,9 +43,9 @@ public class New extends Operation  {
 	}
 
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -53,7 +53,7 @@ public class New extends Operation  {
 			seq.getNewFieldNames(newExps, names, "new");
 			newDs = new DataStruct(names);
 			
-			// ǷԼ̳
+			// 检查是否可以继承主键
 			DataStruct ds = seq.dataStruct();
 			if (ds != null && ds.getPrimary() != null) {
 				String []keyNames = ds.getPrimary();
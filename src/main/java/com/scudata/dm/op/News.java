@@ -8,17 +8,17 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.Function;
 
 /**
- * αܵĸӵĺϲ
+ * 游标或管道的附加的合并产生的序表处理类
  * cs.news(...)
  * @author RunQian
  *
  */
 public class News extends Operation  {
-	private Expression gexp; // ֵΪеıʽ
-	private Expression[] newExps; // ֶαʽ
-	private String []names; // ֶ
-	private String opt; // ѡ
-	private DataStruct newDs; // ṹݽṹ
+	private Expression gexp; // 返回值为序列的表达式
+	private Expression[] newExps; // 字段表达式数组
+	private String []names; // 字段名数组
+	private String opt; // 选项
+	private DataStruct newDs; // 结构集数据结构
 	
 	public News(Expression gexp, Expression []newExps, String []names, String opt) {
 		this(null, gexp, newExps, names, opt);
@@ -34,8 +34,8 @@ public class News extends Operation  {
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -45,9 +45,9 @@ public class News extends Operation  {
 	}
 
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -7,25 +7,25 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.Function;
 
 /**
- * ԸĽӿ
+ * 可以附加运算的接口
  * @author WangXiaoJun
  *
  */
 public abstract class Operable {
 	/**
-	 * 
-	 * @param op 
-	 * @param ctx 
+	 * 附加运算
+	 * @param op 运算
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public abstract Operable addOperation(Operation op, Context ctx);
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param fltExp 
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 过滤
+	 * @param function 对应的函数
+	 * @param fltExp 过滤条件
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable select(Function function, Expression fltExp, String opt, Context ctx) {
@@ -34,12 +34,12 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param fltExp 
-	 * @param opt ѡ
-	 * @param pipe ڴĳԱ
-	 * @param ctx 
+	 * 过滤
+	 * @param function 对应的函数
+	 * @param fltExp 过滤条件
+	 * @param opt 选项
+	 * @param pipe 用于处理不满足条件的成员
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable select(Function function, Expression fltExp, String opt, IPipe pipe, Context ctx) {
@@ -48,13 +48,13 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * ӹˣܹϵ
-	 * @param function Ӧĺ
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 进行连接过滤，保留能关联上的
+	 * @param function 对应的函数
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable filterJoin(Function function, Expression[][] exps, Sequence[] codes, Expression[][] dataExps, String opt, Context ctx) {
@@ -63,13 +63,13 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * ӹˣܹϵ
-	 * @param function Ӧĺ
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 进行连接过滤，保留能关联不上的
+	 * @param function 对应的函数
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable diffJoin(Function function, Expression[][] exps, Sequence[] codes, Expression[][] dataExps, String opt, Context ctx) {
@@ -78,16 +78,16 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
+	 * 做连接
+	 * @param function 对应的函数
 	 * @param fname
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
 	 * @param newExps
 	 * @param newNames
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable join(Function function, String fname, Expression[][] exps, Sequence[] codes,
@@ -97,16 +97,16 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * Զ̱
-	 * @param function Ӧĺ
+	 * 与远程表做连接
+	 * @param function 对应的函数
 	 * @param fname
-	 * @param exps ǰֶαʽ
-	 * @param codes ά
-	 * @param dataExps άֶαʽ
+	 * @param exps 当前表关联字段表达式数组
+	 * @param codes 维表数组
+	 * @param dataExps 维表关联字段表达式数组
 	 * @param newExps
 	 * @param newNames
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable joinRemote(Function function, String fname, Expression[][] exps, 
@@ -117,15 +117,15 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * α鲢
-	 * @param function Ӧĺ
-	 * @param exps ǰֶαʽ
-	 * @param cursors άα
-	 * @param codeExps άֶαʽ
+	 * 与游标做有序归并连接
+	 * @param function 对应的函数
+	 * @param exps 当前表关联字段表达式数组
+	 * @param cursors 维表游标数组
+	 * @param codeExps 维表关联字段表达式数组
 	 * @param newExps
 	 * @param newNames
-	 * @param opt ѡ
-	 * @param ctx 
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable mergeJoinx(Function function, Expression[][] exps, 
@@ -135,13 +135,13 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * Ӽ
-	 * @param function Ӧĺ
-	 * @param exps ʽ
-	 * @param names ֶ
-	 * @param opt ѡ
+	 * 添加计算列
+	 * @param function 对应的函数
+	 * @param exps 计算表达式数组
+	 * @param names 字段名数组
+	 * @param opt 选项
 	 * @param level
-	 * @param ctx 
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable derive(Function function, Expression []exps, String []names, String opt, int level, Context ctx) {
@@ -150,12 +150,12 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param newExps ʽ
-	 * @param names ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 产生新序表
+	 * @param function 对应的函数
+	 * @param newExps 计算表达式数组
+	 * @param names 字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable newTable(Function function, Expression []newExps, String []names, String opt, Context ctx) {
@@ -164,11 +164,11 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 分组表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression []exps, String opt, Context ctx) {
@@ -177,12 +177,12 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ǰ벿ķֶαʽ
-	 * @param sortExps 벿ķֶαʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 前半部分有序的分组字段表达式
+	 * @param sortExps 后半部分无序的分组字段表达式
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression []exps, Expression []sortExps, String opt, Context ctx) {
@@ -191,14 +191,14 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param newExps ܱʽ
-	 * @param newNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression[] exps, String []names, 
@@ -208,16 +208,16 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * 
-	 * @param function Ӧĺ
-	 * @param exps ǰ벿ķֶαʽ
-	 * @param names ֶ
-	 * @param sortExps 벿ķֶαʽ
-	 * @param sortNames ֶ
-	 * @param newExps ܱʽ
-	 * @param newNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 附加有序分组运算
+	 * @param function 对应的函数
+	 * @param exps 前半部分有序的分组字段表达式
+	 * @param names 字段名数组
+	 * @param sortExps 后半部分无序的分组字段表达式
+	 * @param sortNames 字段名数组
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Operable
 	 */
 	public Operable group(Function function, Expression[] exps, String []names, 
@@ -228,14 +228,14 @@ public abstract class Operable {
 	}
 	
 	/**
-	 * Ӽ
-	 * @param function ĺ
-	 * @param fkNames ֶ
-	 * @param timeFkNames ʱ
-	 * @param codes ά
-	 * @param exps ά
-	 * @param timeExps άʱ¼
-	 * @param opt ѡ
+	 * 连接计算
+	 * @param function 所属的函数对象
+	 * @param fkNames 外键字段名数组
+	 * @param timeFkNames 时间外键名数组
+	 * @param codes 维表数组
+	 * @param exps 维表主键数组
+	 * @param timeExps 维表的时间更新键数组
+	 * @param opt 选项
 	 */
 	public Operable switchFk(Function function, String[] fkNames, String[] timeFkNames, Sequence[] codes, Expression[] exps, Expression[] timeExps, String opt, Context ctx) {
 		Switch op = new Switch(function, fkNames, timeFkNames, codes, exps, timeExps, opt);
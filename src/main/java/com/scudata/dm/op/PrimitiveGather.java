@@ -0,0 +1,303 @@
+package com.scudata.dm.op;
+
+import com.scudata.array.DoubleArray;
+import com.scudata.array.IArray;
+import com.scudata.array.IntArray;
+import com.scudata.array.LongArray;
+import com.scudata.array.ObjectArray;
+import com.scudata.dm.AvgValue;
+import com.scudata.dm.BaseRecord;
+import com.scudata.dm.Table;
+import com.scudata.expression.Expression;
+import com.scudata.expression.Node;
+import com.scudata.expression.fn.gather.Average;
+import com.scudata.expression.fn.gather.Count;
+import com.scudata.expression.fn.gather.Max;
+import com.scudata.expression.fn.gather.Min;
+import com.scudata.expression.fn.gather.Sum;
+
+/**
+ * 用基本类型数组保存各组汇总值的sum、count、min、max、avg，配合GroupKeyTable使用
+ * 汇总结束时再把汇总值写到结果集记录中，得到的值的类型跟逐条汇总时相同
+ * 某批数据的类型不适合时返回false，由调用者把汇总值写到记录中再改成逐条汇总
+ * @author RunQian
+ *
+ */
+class PrimitiveGather {
+	private static final int SUM = 1;
+	private static final int COUNT = 2;
+	private static final int MIN = 3;
+	private static final int MAX = 4;
+	private static final int AVG = 5;
+
+	private static final int VALUE_NONE = 0; // 不能用基本类型汇总
+	private static final int VALUE_NULL = 1; // 值全为空
+	private static final int VALUE_INT = 2;
+	private static final int VALUE_LONG = 3;
+	private static final int VALUE_DOUBLE = 4;
+
+	private int type; // 汇总函数类型
+	private Expression exp; // 汇总表达式
+	private int valueType = VALUE_NULL; // 已经汇总的值的类型
+
+	private long []longValues; // 整数汇总值
+	private double []doubleValues; // 浮点数汇总值
+	private long []counts; // 非空值的数量，count时为计数结果
+	private int size; // 分组数
+
+	private PrimitiveGather(int type, Expression exp) {
+		this.type = type;
+		this.exp = exp;
+		longValues = new long[1024];
+		counts = new long[1024];
+	}
+
+	/**
+	 * 如果汇总函数可以用基本类型数组汇总则产生此类对象，否则返回空
+	 * @param gather 汇总函数
+	 * @return PrimitiveGather
+	 */
+	public static PrimitiveGather newInstance(Node gather) {
+		Class<?> c = gather.getClass();
+		if (c == Sum.class) {
+			return new PrimitiveGather(SUM, ((Sum)gather).getExp());
+		} else if (c == Count.class) {
+			return new PrimitiveGather(COUNT, ((Count)gather).getExp());
+		} else if (c == Min.class) {
+			return new PrimitiveGather(MIN, ((Min)gather).getExp());
+		} else if (c == Max.class) {
+			return new PrimitiveGather(MAX, ((Max)gather).getExp());
+		} else if (c == Average.class) {
+			return new PrimitiveGather(AVG, ((Average)gather).getExp());
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * 取汇总表达式
+	 * @return Expression
+	 */
+	public Expression getExp() {
+		return exp;
+	}
+
+	// 取数组中值的类型
+	private static int getValueType(IArray values) {
+		if (values instanceof IntArray) {
+			return VALUE_INT;
+		} else if (values instanceof LongArray) {
+			return VALUE_LONG;
+		} else if (values instanceof DoubleArray) {
+			return VALUE_DOUBLE;
+		} else if (!(values instanceof ObjectArray)) {
+			return VALUE_NONE;
+		}
+
+		Object []datas = ((ObjectArray)values).getDatas();
+		int type = VALUE_NULL;
+		for (int i = 1, len = values.size(); i <= len; ++i) {
+			Object obj = datas[i];
+			int cur;
+			if (obj == null) {
+				continue;
+			} else if (obj instanceof Integer) {
+				cur = VALUE_INT;
+			} else if (obj instanceof Long) {
+				cur = VALUE_LONG;
+			} else if (obj instanceof Double) {
+				cur = VALUE_DOUBLE;
+			} else {
+				return VALUE_NONE;
+			}
+
+			if (type == VALUE_NULL) {
+				type = cur;
+			} else if (type != cur) {
+				return VALUE_NONE;
+			}
+		}
+
+		return type;
+	}
+
+	private void ensureCapacity(int groupCount) {
+		if (counts.length <= groupCount) {
+			int newLen = counts.length << 1;
+			while (newLen <= groupCount) {
+				newLen <<= 1;
+			}
+
+			long []tmp = new long[newLen];
+			System.arraycopy(counts, 0, tmp, 0, size + 1);
+			counts = tmp;
+
+			if (doubleValues != null) {
+				double []dtmp = new double[newLen];
+				System.arraycopy(doubleValues, 0, dtmp, 0, size + 1);
+				doubleValues = dtmp;
+			} else {
+				tmp = new long[newLen];
+				System.arraycopy(longValues, 0, tmp, 0, size + 1);
+				longValues = tmp;
+			}
+		}
+
+		size = groupCount;
+	}
+
+	/**
+	 * 汇总一批数据
+	 * @param values 汇总表达式的计算结果
+	 * @param seqs 每条记录所属分组的序号
+	 * @param groupCount 加入这批数据后的分组数
+	 * @return true：汇总成功，false：值的类型不适合，没有做汇总
+	 */
+	public boolean gather(IArray values, int []seqs, int groupCount) {
+		if (type == COUNT) {
+			ensureCapacity(groupCount);
+			long []counts = this.counts;
+			for (int i = 1, len = values.size(); i <= len; ++i) {
+				if (values.isTrue(i)) {
+					counts[seqs[i]]++;
+				}
+			}
+
+			return true;
+		}
+
+		int curType = getValueType(values);
+		if (curType == VALUE_NONE) {
+			return false;
+		} else if (curType != VALUE_NULL && curType != valueType) {
+			// 最大最小值不处理浮点数，避免跟Variant.compare在NaN上的差异
+			if (valueType != VALUE_NULL || (curType == VALUE_DOUBLE && (type == MIN || type == MAX))) {
+				return false;
+			}
+
+			valueType = curType;
+			if (curType == VALUE_DOUBLE) {
+				doubleValues = new double[counts.length];
+				longValues = null;
+			}
+		}
+
+		ensureCapacity(groupCount);
+		long []counts = this.counts;
+		int len = values.size();
+		if (curType == VALUE_NULL) {
+			return true;
+		} else if (valueType == VALUE_DOUBLE) {
+			double []doubleValues = this.doubleValues;
+			if (values instanceof DoubleArray) {
+				DoubleArray doubleArray = (DoubleArray)values;
+				for (int i = 1; i <= len; ++i) {
+					if (!doubleArray.isNull(i)) {
+						addDouble(doubleValues, counts, seqs[i], doubleArray.getDouble(i));
+					}
+				}
+			} else {
+				for (int i = 1; i <= len; ++i) {
+					Object obj = values.get(i);
+					if (obj != null) {
+						addDouble(doubleValues, counts, seqs[i], ((Double)obj).doubleValue());
+					}
+				}
+			}
+		} else if (type == MIN) {
+			long []longValues = this.longValues;
+			for (int i = 1; i <= len; ++i) {
+				if (!values.isNull(i)) {
+					int seq = seqs[i];
+					long v = values.getLong(i);
+					if (counts[seq]++ == 0 || v < longValues[seq]) {
+						longValues[seq] = v;
+					}
+				}
+			}
+		} else if (type == MAX) {
+			long []longValues = this.longValues;
+			for (int i = 1; i <= len; ++i) {
+				if (!values.isNull(i)) {
+					int seq = seqs[i];
+					long v = values.getLong(i);
+					if (counts[seq]++ == 0 || v > longValues[seq]) {
+						longValues[seq] = v;
+					}
+				}
+			}
+		} else {
+			long []longValues = this.longValues;
+			for (int i = 1; i <= len; ++i) {
+				if (!values.isNull(i)) {
+					longValues[seqs[i]] += values.getLong(i);
+					counts[seqs[i]]++;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	// 第一个值直接赋值，保持跟逐条汇总相同的结果（比如-0.0）
+	private static void addDouble(double []doubleValues, long []counts, int seq, double v) {
+		if (counts[seq]++ == 0) {
+			doubleValues[seq] = v;
+		} else {
+			doubleValues[seq] += v;
+		}
+	}
+
+	// 按逐条汇总的规则生成求和结果：只有一个整数时还是整数，多个整数相加得到长整数
+	private Object getSumValue(int seq) {
+		long count = counts[seq];
+		if (count == 0) {
+			return null;
+		} else if (valueType == VALUE_DOUBLE) {
+			return new Double(doubleValues[seq]);
+		} else if (valueType == VALUE_INT && count == 1) {
+			return new Integer((int)longValues[seq]);
+		} else {
+			return new Long(longValues[seq]);
+		}
+	}
+
+	/**
+	 * 把汇总值写到结果集记录的指定字段上
+	 * @param result 结果集
+	 * @param field 汇总字段序号，从0开始计数
+	 */
+	public void finish(Table result, int field) {
+		IArray mems = result.getMems();
+		for (int i = 1; i <= size; ++i) {
+			BaseRecord r = (BaseRecord)mems.get(i);
+			Object val;
+			switch (type) {
+			case COUNT:
+				val = new Long(counts[i]);
+				break;
+			case AVG:
+				val = new AvgValue(getSumValue(i), (int)counts[i]);
+				break;
+			case MIN:
+			case MAX:
+				if (counts[i] == 0) {
+					val = null;
+				} else if (valueType == VALUE_INT) {
+					val = new Integer((int)longValues[i]);
+				} else {
+					val = new Long(longValues[i]);
+				}
+				break;
+			default:
+				val = getSumValue(i);
+			}
+
+			r.setNormalFieldValue(field, val);
+		}
+
+		longValues = null;
+		doubleValues = null;
+		counts = null;
+	}
+}
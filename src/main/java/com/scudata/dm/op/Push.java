@@ -5,7 +5,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.expression.Function;
 
 /**
- * αܵĸӵ͵ǰݵָܵ㴦
+ * 游标或管道的附加的推送当前数据到指定管道计算处理类
  * cs.push(ch)
  * @author RunQian
  *
@@ -23,9 +23,9 @@ public class Push extends Operation {
 	}
 	
 	/**
-	 * ȫʱãgroupҪ֪ݽȷһ
-	 * @param ctx 
-	 * @return ӵĲ
+	 * 数据全部推送完成时调用，group运算需要知道数据结束来确认最后一组的数据
+	 * @param ctx 计算上下文
+	 * @return 附加的操作缓存的数据
 	 */
 	public Sequence finish(Context ctx) {
 		channel.finish(ctx);
@@ -33,8 +33,8 @@ public class Push extends Operation {
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -42,9 +42,9 @@ public class Push extends Operation {
 	}
 	
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -8,17 +8,17 @@ import com.scudata.dm.Sequence;
 import com.scudata.util.Variant;
 
 /**
- * ¼ɵĺбȽ
- * ڹϣʱֶιϣֵͬ
+ * 记录构成的红黑树，按主键进行比较
+ * 用于哈希法外存分组时管理分组字段哈希值相同的组
  * @author RunQian
  *
  */
 public class RecordTree {
-	public static final boolean RED = true; // ɫ
-	public static final boolean BLACK = false; // ɫ
+	public static final boolean RED = true; // 红色
+	public static final boolean BLACK = false; // 黑色
 	
 	/**
-	 * Ľڵ
+	 * 红黑树的节点
 	 * @author RunQian
 	 *
 	 */
@@ -55,8 +55,8 @@ public class RecordTree {
 	}
 	
 	/**
-	 * Ҽ¼ڵ㣬Ҳ½Ľڵ㣬Ѽ¼½ڵ
-	 * @param values ֵ
+	 * 根据主键查找记录节点，找不到返回新建的节点，外面会把记录赋给新节点
+	 * @param values 主键值数组
 	 * @return
 	 */
 	public Node get(Object []values) {
@@ -100,7 +100,7 @@ public class RecordTree {
 		}
 	}
 	
-	// ڵƽ
+	// 插入节点后对树做平衡
 	private void balanceInsertion(Node node) {
 		Node parent;
 		Node gparent;
@@ -151,7 +151,7 @@ public class RecordTree {
 		root.color = BLACK;
 	}
 	
-	//ĳڵ
+	//对某个节点进行左旋
 	private void leftRonate(Node x) {
 		Node y = x.right;
 		if (y.left != null) {
@@ -175,7 +175,7 @@ public class RecordTree {
 		x.parent = y;
 	}
 	
-	//ĳڵ
+	//对某个节点进行右旋
 	private void rightRonate(Node x) {
 		Node y = x.left;
 		if(y.right != null) {
@@ -199,7 +199,7 @@ public class RecordTree {
 		x.parent = y;
 	}
 	
-	// ȡСĽڵ
+	// 取最小的节点
 	private Node minimum(Node node) {
 		while (node.left != null) {
 			node = node.left;
@@ -208,7 +208,7 @@ public class RecordTree {
 		return node;
 	}
 	
-	// ȡһڵ
+	// 取下一个节点
 	private Node successor(Node node) {
 		if (node.right != null) {
 			return minimum(node.right);
@@ -224,8 +224,8 @@ public class RecordTree {
 	}
 	
 	/**
-	 * ȷȡнڵļ¼
-	 * @param out ż¼
+	 * 深度优先法取所有节点的记录
+	 * @param out 输出参数，存放记录
 	 */
 	public void depthTraverse(Sequence out) {
 		Node node = root;
@@ -233,7 +233,7 @@ public class RecordTree {
 			return;
 		}
 		
-		// ȡֵСĽڵ㣬Ľڵ
+		// 取值最小的节点，即最左的节点
 		node = minimum(node);
 		
 		do {
@@ -274,8 +274,8 @@ public class RecordTree {
 	}
 
 	/**
-	 * õݹ鷽ȡнڵļ¼
-	 * @param out ż¼
+	 * 用递归方法深度取所有节点的记录
+	 * @param out 输出参数，存放记录
 	 */
 	public void recursiveTraverse(Sequence out) {
 		if (root != null) {
@@ -284,8 +284,8 @@ public class RecordTree {
 	}
 	
 	/**
-	 * ȷȡнڵļ¼
-	 * @param out ż¼
+	 * 广度优先法取所有节点的记录
+	 * @param out 输出参数，存放记录
 	 */
 	public void breadthTraverse(Sequence out) {
 		if (root != null) {
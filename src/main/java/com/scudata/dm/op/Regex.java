@@ -15,16 +15,16 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵӵģʽƥ㴦
- * op.regex(rs,F) opαܵ
+ * 游标或管道附加的模式匹配运算处理类
+ * op.regex(rs,F) op是游标或管道
  * @author RunQian
  *
  */
 public class Regex extends Operation {
-	private Pattern pattern; // ģʽ
-	private String []names; // ֶ
-	private Expression exp; // ҪƥֶΣȱʡ~
-	private DataStruct ds; // ݽṹڿʱԴ¼
+	private Pattern pattern; // 模式
+	private String []names; // 字段名数组
+	private Expression exp; // 需要做匹配的字段，缺省用~
+	private DataStruct ds; // 结果集数据结构，等于空时返回源记录
 
 	public Regex(Pattern pattern, String []names, Expression exp) {
 		this(null, pattern, names, exp);
@@ -42,8 +42,8 @@ public class Regex extends Operation {
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -52,9 +52,9 @@ public class Regex extends Operation {
 	}
 
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -7,15 +7,15 @@ import com.scudata.dm.Sequence;
 import com.scudata.expression.Function;
 
 /**
- * αܵӵĶֶν㴦
- * op.rename(F:F',) opαܵ
+ * 游标或管道附加的对字段进行重命名运算处理类
+ * op.rename(F:F',…) op是游标或管道
  * @author RunQian
  *
  */
 public class Rename extends Operation {
-	private String []srcFields; // Դֶ
-	private String []newFields; // ֶ
-	private DataStruct prevDs; // һļ¼ݽṹ
+	private String []srcFields; // 源字段名数组
+	private String []newFields; // 新字段名数组
+	private DataStruct prevDs; // 上一条处理的记录的数据结构
 
 	
 	public Rename(Function function, String []srcFields, String []newFields) {
@@ -29,8 +29,8 @@ public class Rename extends Operation {
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -38,9 +38,9 @@ public class Rename extends Operation {
 	}
 
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
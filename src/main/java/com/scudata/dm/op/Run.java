@@ -6,16 +6,16 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.Function;
 
 /**
- * αܵӵļʽ㴦
- * op.run(xi,) op.run(xi:Fi:,) opαܵ
+ * 游标或管道附加的计算表达式运算处理类
+ * op.run(xi,…) op.run(xi:Fi:,…) op是游标或管道
  * @author RunQian
  *
  */
 public class Run extends Operation {
-	private Expression exp; // ʽΪxi:FiʽĲ
+	private Expression exp; // 表达式，如果为空则采用下面xi:Fi形式的参数
 	
-	private Expression []assignExps; // ֶʽ
-	private Expression []exps; // ֵʽ
+	private Expression []assignExps; // 字段名表达式数组
+	private Expression []exps; // 值表达式数组
 
 	public Run(Expression exp) {
 		this(null, exp);
@@ -37,8 +37,8 @@ public class Run extends Operation {
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -53,9 +53,9 @@ public class Run extends Operation {
 	}
 
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -9,19 +9,19 @@ import com.scudata.expression.Function;
 import com.scudata.util.Variant;
 
 /**
- * αܵӵĹ㴦
- * op.select(x) op.select(x;f) op.select(x;ch) opαܵfļchǹܵдļܵ
+ * 游标或管道附加的过滤运算处理类
+ * op.select(x) op.select(x;f) op.select(x;ch) op是游标或管道，f是文件，ch是管道，不满足条件的写到文件或管道
  * @author RunQian
  *
  */
 public class Select extends Operation {
-	protected Expression fltExp; // ˱ʽ
-	protected String opt; // ѡ
-	protected IPipe pipe; // ܵΪգѲ͵ܵ
+	protected Expression fltExp; // 过滤表达式
+	protected String opt; // 选项
+	protected IPipe pipe; // 管道，如果不为空，则把不满足条件的数据推送到管道中
 
-	protected boolean isContinuous; // ļ¼Ƿһ
-	protected boolean isFound; // ǷѾҵ@cʱҵƥĽ
-	protected boolean isOrg; // Ƿıԭ
+	protected boolean isContinuous; // 满足条件的记录是否是连续的一个区间
+	protected boolean isFound; // 是否已经找到，@c时找到后再碰到不匹配的结束查找
+	protected boolean isOrg; // 是否改变原序列
 	
 	public Select(Expression fltExp, String opt) {
 		this(null, fltExp, opt, null);
@@ -44,7 +44,7 @@ public class Select extends Operation {
 	}
 	
 	/**
-	 * ȡ˱ʽ
+	 * 取过滤表达式
 	 * @return
 	 */
 	public Expression getFilterExpression() {
@@ -52,17 +52,17 @@ public class Select extends Operation {
 	}
 
 	/**
-	 * ȡǷԪ˺ټ¼
-	 * ˺αľȷȡӵĲʹ¼ֻ谴ȡ
-	 * @return trueᣬfalse
+	 * 取操作是否会减少元素数，比如过滤函数会减少记录
+	 * 此函数用于游标的精确取数，如果附加的操作不会使记录数减少则只需按传入的数量取数即可
+	 * @return true：会，false：不会
 	 */
 	public boolean isDecrease() {
 		return true;
 	}
 	
 	/**
-	 * ڶ̼߳㣬Ϊʽ̼ܶ߳
-	 * @param ctx 
+	 * 复制运算用于多线程计算，因为表达式不能多线程计算
+	 * @param ctx 计算上下文
 	 * @return Operation
 	 */
 	public Operation duplicate(Context ctx) {
@@ -71,9 +71,9 @@ public class Select extends Operation {
 	}
 
 	/**
-	 * αܵǰ͵
-	 * @param seq 
-	 * @param ctx 
+	 * 处理游标或管道当前推送的数据
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
@@ -7,19 +7,19 @@ import com.scudata.dm.Table;
 import com.scudata.util.Variant;
 
 /**
- * ¼,A.groups@h(...)
+ * 有序记录链表,用于A.groups@h(...)
  * @author RunQian
  *
  */
 class SortedGroupsLink {
 	/**
-	 * Ľڵ
+	 * 链表的节点
 	 * @author RunQian
 	 *
 	 */
 	static class Node {
-		private BaseRecord r; // ¼
-		private Node next; // һڵ
+		private BaseRecord r; // 记录
+		private Node next; // 下一个节点
 		
 		public Node() {
 		}
@@ -45,13 +45,13 @@ class SortedGroupsLink {
 		}
 	}
 	
-	private Node first; // ׽ڵ
-	private Node prevNode; // һҵǸڵ
-	private int len = 0; // 
+	private Node first; // 首节点
+	private Node prevNode; // 上一次找到的那个节点
+	private int len = 0; // 长度
 	
 	
 	/**
-	 * ȡļ¼س
+	 * 取出链表里的记录返回成序表
 	 * @param ds
 	 * @return
 	 */
@@ -66,8 +66,8 @@ class SortedGroupsLink {
 	}
 	
 	/**
-	 * ݶֵֶҵĽڵ㣬ҲӦλ½һڵ㷵أḳֵ¼
-	 * @param values ֵ
+	 * 根据多字段主键值找到链表的节点，找不到则在相应的位置新建一个节点返回，外面会赋值记录
+	 * @param values 主键值数组
 	 * @return
 	 */
 	public Node put(Object []values) {
@@ -79,7 +79,7 @@ class SortedGroupsLink {
 		Node prev = null;
 		Node cur = prevNode;
 		
-		// ϴβֵʼȽСϴβֵͷʼ
+		// 从上次插入的值开始比较如果小于上次插入的值则从头开始找
 		while (true) {
 			int cmp = cur.cmp(values);
 			if (cmp < 0) {
@@ -112,7 +112,7 @@ class SortedGroupsLink {
 			}
 		}
 		
-		// ²ֵϴβֵСͷʼ
+		// 新插入的值比上次插入的值小则从头开始查找
 		prev = null;
 		cur = first;
 		while (true) {
@@ -141,8 +141,8 @@ class SortedGroupsLink {
 	}
 	
 	/**
-	 * ݵֵֶҵĽڵ㣬ҲӦλ½һڵ㷵أḳֵ¼
-	 * @param value ֵ
+	 * 根据单字段主键值找到链表的节点，找不到则在相应的位置新建一个节点返回，外面会赋值记录
+	 * @param value 主键值
 	 * @return
 	 */
 	public Node put(Object value) {
@@ -154,7 +154,7 @@ class SortedGroupsLink {
 		Node prev = null;
 		Node cur = prevNode;
 		
-		// ϴβֵʼȽСϴβֵͷʼ
+		// 从上次插入的值开始比较如果小于上次插入的值则从头开始找
 		while (true) {
 			int cmp = cur.cmp(value);
 			if (cmp < 0) {
@@ -187,7 +187,7 @@ class SortedGroupsLink {
 			}
 		}
 		
-		// ²ֵϴβֵСͷʼ
+		// 新插入的值比上次插入的值小则从头开始查找
 		prev = null;
 		cur = first;
 		while (true) {
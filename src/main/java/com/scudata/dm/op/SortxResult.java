@@ -17,18 +17,18 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.EnvUtil;
 
 /**
- * ڶִ
+ * 用于对推送来的数据执行外存排序运算
  * @author RunQian
  *
  */
 public class SortxResult implements IResult {
-	private Expression[] exps; // ֶαʽ
-	private int []orders; // ÿֶε
-	private Context ctx; // 
-	private int capacity; // ڴܹŵļ¼
-	private String opt; // ѡ
+	private Expression[] exps; // 排序字段表达式数组
+	private int []orders; // 用来表明每个字段的升降序
+	private Context ctx; // 计算上下文
+	private int capacity; // 内存能够存放的记录数
+	private String opt; // 选项
 
-	private Sequence data = new Sequence(); // 
+	private Sequence data = new Sequence(); // 缓存的数据
 	private ArrayList<ICursor> cursorList = new ArrayList<ICursor>();
 	
 	public SortxResult(Expression[] exps, Context ctx, int capacity, String opt) {
@@ -45,9 +45,9 @@ public class SortxResult implements IResult {
 	}
 	
 	/**
-	 * ͹ݣۻյĽ
-	 * @param seq 
-	 * @param ctx 
+	 * 处理推送过来的数据，累积到最终的结果上
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	public void push(Sequence table, Context ctx) {
 		if (capacity < 1) {
@@ -82,14 +82,14 @@ public class SortxResult implements IResult {
 	}
 	
 	/**
-	 * ͽʱ
-	 * @param ctx 
+	 * 数据推送结束时调用
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
 	}
 	
 	/**
-	 * ͽȡյļ
+	 * 数据推送结束，取最终的计算结果
 	 * @return
 	 */
 	public Object result() {
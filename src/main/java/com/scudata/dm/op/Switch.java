@@ -8,35 +8,38 @@ import com.scudata.dm.BaseRecord;
 import com.scudata.dm.Context;
 import com.scudata.dm.DataStruct;
 import com.scudata.dm.IndexTable;
+import com.scudata.dm.IntHashIndexTable;
 import com.scudata.dm.Record;
 import com.scudata.dm.Sequence;
+import com.scudata.dm.Table;
 import com.scudata.expression.CurrentSeq;
 import com.scudata.expression.Expression;
 import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
+import com.scudata.util.CursorUtil;
 import com.scudata.util.Variant;
 
 /**
- * ӲСαꡢܵӲ
+ * 连接操作，用于排列、游标、管道的连接操作
  * @author WangXiaoJun
  *
  */
 public class Switch extends Operation {
-	private String []fkNames; // ֶ
-	private String []timeFkNames; // ʱֶ
+	private String []fkNames; // 外键字段名数组
+	private String []timeFkNames; // 时间外键字段名数组
 	
-	private Sequence []codes; // ά
-	private Expression []exps; // άʽ
-	private Expression []timeExps; // άʱ¼
-	private String opt; // ѡ
+	private Sequence []codes; // 维表数组
+	private Expression []exps; // 维表的主键表达式数组
+	private Expression []timeExps; // 维表的时间更新键数组
+	private String opt; // 选项
 
-	private IndexTable []indexTables; // άӦ
-	private boolean isIsect; // 
-	private boolean isDiff; // 
+	private IndexTable []indexTables; // 维表对应的索引表数组
+	private boolean isIsect; // 做交连接
+	private boolean isDiff; // 做差连接
 	
-	private boolean isLeft; // ӣҲFӦֵʱݽṹɿֵ⣩¼Ӧ
-	private DataStruct []dataStructs; // isLeftΪtrueʱʹãӦάݽṹ
-	private int []keySeqs; // άֶε
+	private boolean isLeft; // 左链接，找不到F对应值时，按参数数据结构生成空值（除主键外）记录对应
+	private DataStruct []dataStructs; // isLeft为true时使用，对应维表的数据结构
+	private int []keySeqs; // 维表主键字段的序号
 	
 	public String[] getFkNames() {
 		return fkNames;
@@ -71,14 +74,14 @@ public class Switch extends Operation {
 	}
 	
 	/**
-	 * 캯
-	 * @param function ĺ
-	 * @param fkNames ֶ
-	 * @param timeFkNames ʱ
-	 * @param codes ά
-	 * @param exps ά
-	 * @param timeExps άʱ¼
-	 * @param opt ѡ
+	 * 构造函数
+	 * @param function 所属的函数对象
+	 * @param fkNames 外键字段名数组
+	 * @param timeFkNames 时间外键名数组
+	 * @param codes 维表数组
+	 * @param exps 维表主键数组
+	 * @param timeExps 维表的时间更新键数组
+	 * @param opt 选项
 	 */
 	public Switch(Function function, String[] fkNames, String[] timeFkNames, Sequence[] codes, Expression[] exps, Expression[] timeExps, String opt) {
 		super(function);
@@ -101,17 +104,17 @@ public class Switch extends Operation {
 	}
 	
 	/**
-	 * ش˲Ƿʹ¼
-	 * @return trueʹ¼٣false
+	 * 返回此操作是否会使记录数变少
+	 * @return true：否会使记录数变少，false：不会变少
 	 */
 	public boolean isDecrease() {
 		return isIsect || isDiff;
 	}
 	
 	/**
-	 * ƴ˲
-	 * @param ctx 
-	 * @return ƵSwitch
+	 * 复制此操作
+	 * @param ctx 计算上下文
+	 * @return 复制的Switch操作
 	 */
 	public Operation duplicate(Context ctx) {
 		Expression []exps = dupExpressions(this.exps, ctx);
@@ -188,10 +191,10 @@ public class Switch extends Operation {
 	}
 
 	/**
-	 * Դӣӽ
-	 * @param seq Ҫ
-	 * @param ctx 
-	 * @return ӽ
+	 * 对传入的数据做连接，返回连接结果
+	 * @param seq 要处理的数据
+	 * @param ctx 计算上下文
+	 * @return 连接结果
 	 */
 	public Sequence process(Sequence seq, Context ctx) {
 		if (isIsect) {
@@ -220,11 +223,24 @@ public class Switch extends Operation {
 			IndexTable indexTable = getIndexTable(f, ctx);
 			String fkName = fkNames[f];
 			String timeName = getTimeFkNames() == null ? null : getTimeFkNames()[f];
-			int col = -1; // ֶһ¼
+			int col = -1; // 字段在上一条记录的索引
 			int timeCol = -1;
-			BaseRecord prevRecord = null; // һ¼
+			BaseRecord prevRecord = null; // 上一条记录
 
-			if (indexTable != null) {
+			if (indexTable instanceof IntHashIndexTable && timeName == null && data instanceof Table) {
+				// 维表是整数索引时整批查找
+				col = data.dataStruct().getFieldIndex(fkName);
+				if (col < 0) {
+					MessageManager mm = EngineMessage.get();
+					throw new RQException(fkName + mm.getMessage("ds.fieldNotExist"));
+				}
+				
+				if (isLeft) {
+					CursorUtil.intHashSwitch((Table)data, col, (IntHashIndexTable)indexTable, dataStructs[f], keySeqs[f]);
+				} else {
+					CursorUtil.intHashSwitch((Table)data, col, (IntHashIndexTable)indexTable, null, 0);
+				}
+			} else if (indexTable != null) {
 				if (isLeft) {
 					DataStruct ds = dataStructs[f];
 					int keySeq = keySeqs[f];
@@ -258,7 +274,7 @@ public class Switch extends Operation {
 							}
 						}
 					} else {
-						// ʱ¼ʱʱֶβ
+						// 有时间更新键时查找时按两个字段查找
 						Object []values = new Object[2];
 						for (int i = 1; i <= len; ++i) {
 							Object obj = mems.get(i);
@@ -322,7 +338,7 @@ public class Switch extends Operation {
 							}
 						}
 					} else {
-						// ʱ¼ʱʱֶβ
+						// 有时间更新键时查找时按两个字段查找
 						Object []values = new Object[2];
 						for (int i = 1; i <= len; ++i) {
 							Object obj = mems.get(i);
@@ -356,7 +372,7 @@ public class Switch extends Operation {
 					}
 				}
 			} else if (codes[f] == null) {
-				// ֶָαֵ
+				// 指引字段变成值
 				for (int i = 1; i <= len; ++i) {
 					Object obj = mems.get(i);
 					if (obj instanceof BaseRecord) {
@@ -425,9 +441,9 @@ public class Switch extends Operation {
 
 			String fkName = fkNames[f];
 			String timeName = getTimeFkNames() == null ? null : getTimeFkNames()[f];
-			int col = -1; // ֶһ¼
+			int col = -1; // 字段在上一条记录的索引
 			int timeCol = -1;
-			BaseRecord prevRecord = null; // һ¼
+			BaseRecord prevRecord = null; // 上一条记录
 			
 			if (indexTable != null) {
 				ObjectArray resultMems = new ObjectArray(len);
@@ -458,7 +474,7 @@ public class Switch extends Operation {
 						}
 					}
 				} else {
-					// ʱ¼ʱʱֶβңһֶ
+					// 有时间更新键时查找时按两个字段查找，引用设第一个字段上
 					Object []values = new Object[2];
 					for (int i = 1; i <= len; ++i) {
 						Object obj = mems.get(i);
@@ -496,7 +512,7 @@ public class Switch extends Operation {
 				
 				mems = resultMems;
 			} else if (codes[f] == null) {
-				// ֶָαֵ
+				// 指引字段变成值
 				for (int i = 1; i <= len; ++i) {
 					Object obj = mems.get(i);
 					if (obj instanceof BaseRecord) {
@@ -574,9 +590,9 @@ public class Switch extends Operation {
 			
 			String fkName = fkNames[f];
 			String timeName = getTimeFkNames() == null ? null : getTimeFkNames()[f];
-			int col = -1; // ֶһ¼
+			int col = -1; // 字段在上一条记录的索引
 			int timeCol = -1;
-			BaseRecord prevRecord = null; // һ¼
+			BaseRecord prevRecord = null; // 上一条记录
 
 			if (indexTable != null) {
 				ObjectArray resultMems = new ObjectArray(len);
@@ -605,7 +621,7 @@ public class Switch extends Operation {
 						}
 					}
 				} else {
-					// ʱ¼ʱʱֶβ
+					// 有时间更新键时查找时按两个字段查找
 					Object []values = new Object[2];
 					for (int i = 1; i <= len; ++i) {
 						Object obj = mems.get(i);
@@ -642,7 +658,7 @@ public class Switch extends Operation {
 
 				mems = resultMems;
 			} else if (codes[f] == null) {
-				// ֶָαֵ
+				// 指引字段变成值
 				for (int i = 1; i <= len; ++i) {
 					Object obj = mems.get(i);
 					if (obj instanceof BaseRecord) {
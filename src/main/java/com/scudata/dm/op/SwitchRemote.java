@@ -17,27 +17,27 @@ import com.scudata.parallel.ClusterMemoryTable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ԶάӲСαꡢܵӲ
+ * 与远程维表做连接操作，用于排列、游标、管道的连接操作
  * @author WangXiaoJun
  *
  */
 public class SwitchRemote extends Operation {
-	private String []fkNames; // ֶ
-	private Object[] datas; // ά߼Ⱥά
-	private Expression []exps; // άʽ
-	private String opt; // ѡ
+	private String []fkNames; // 外键字段名数组
+	private Object[] datas; // 本地维表或者集群维表数组
+	private Expression []exps; // 维表的主键表达式数组
+	private String opt; // 选项
 	
-	private int []fkIndex; // ֶ
+	private int []fkIndex; // 外键字段索引数组
 	private Sequence []codes;
-	private IndexTable []indexTables; // άӦ
-	private ClusterMemoryTable []cts; // Ⱥά
+	private IndexTable []indexTables; // 维表对应的索引表数组
+	private ClusterMemoryTable []cts; // 集群维表数组
 
-	private boolean isIsect; // 
-	private boolean isDiff; // 
+	private boolean isIsect; // 做交连接
+	private boolean isDiff; // 做差连接
 	
-	private boolean isLeft; // ӣҲFӦֵʱݽṹɿֵ⣩¼Ӧ
-	private DataStruct []dataStructs; // isLeftΪtrueʱʹãӦάݽṹ
-	private int []keySeqs; // άֶε
+	private boolean isLeft; // 左链接，找不到F对应值时，按参数数据结构生成空值（除主键外）记录对应
+	private DataStruct []dataStructs; // isLeft为true时使用，对应维表的数据结构
+	private int []keySeqs; // 维表主键字段的序号
 	
 	public SwitchRemote(String[] fkNames, Object[] datas, Expression[] exps, String opt) {
 		this(null, fkNames, datas, exps, opt);
@@ -62,17 +62,17 @@ public class SwitchRemote extends Operation {
 	}
 	
 	/**
-	 * ش˲Ƿʹ¼
-	 * @return trueʹ¼٣false
+	 * 返回此操作是否会使记录数变少
+	 * @return true：否会使记录数变少，false：不会变少
 	 */
 	public boolean isDecrease() {
 		return isIsect || isDiff;
 	}
 	
 	/**
-	 * ƴ˲
-	 * @param ctx 
-	 * @return ƵSwitch
+	 * 复制此操作
+	 * @param ctx 计算上下文
+	 * @return 复制的Switch操作
 	 */
 	public Operation duplicate(Context ctx) {
 		Expression []newExps = dupExpressions(exps, ctx);				
@@ -142,10 +142,10 @@ public class SwitchRemote extends Operation {
 	}
 
 	/**
-	 * Դӣӽ
-	 * @param seq Ҫ
-	 * @param ctx 
-	 * @return ӽ
+	 * 对传入的数据做连接，返回连接结果
+	 * @param seq 要处理的数据
+	 * @param ctx 计算上下文
+	 * @return 连接结果
 	 */
 	public Sequence process(Sequence data, Context ctx) {
 		init(ctx);
@@ -184,7 +184,7 @@ public class SwitchRemote extends Operation {
 			} else if (codes[fk] != null) {
 				newSeq = fetch(result, f, codes[fk], ctx);
 			} else {
-				// ֶָαֵ
+				// 指引字段变成值
 				for (int i = 1; i <= len; ++i) {
 					Record r = (Record)result.getMem(i);
 					Object val = r.getNormalFieldValue(fk);
@@ -214,7 +214,7 @@ public class SwitchRemote extends Operation {
 					Record r = (Record)result.getMem(i);
 					Object val = newSeq.getMem(i);
 					
-					// ҲʱԴֵ
+					// 找不到时保留源值
 					if (val == null) {
 						resultMems.add(r);
 					}
@@ -241,7 +241,7 @@ public class SwitchRemote extends Operation {
 		}
 	}
 	
-	// ȡԪ
+	// 按索引取元素
 	private Sequence fetch(Sequence src, int f, IndexTable it, Context ctx) {
 		int len = src.length();
 		Sequence result = new Sequence(len);
@@ -273,7 +273,7 @@ public class SwitchRemote extends Operation {
 		return result;
 	}
 	
-	// ȡԪ
+	// 按序号取元素
 	private Sequence fetch(Sequence src, int f, Sequence code, Context ctx) {
 		int len = src.length();
 		Sequence result = new Sequence(len);
@@ -9,13 +9,13 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.Node;
 
 /**
- * ڶִл
+ * 用于对推送来的数据执行汇总运算
  * @author RunQian
  *
  */
 public class TotalResult implements IResult {
-	private Expression []calcExps; // ܱʽ
-	private Context ctx; // 
+	private Expression []calcExps; // 汇总表达式数组
+	private Context ctx; // 计算上下文
 	private IGroupsResult groupsResult;
 	
 	public TotalResult(Expression[] calcExps, Context ctx, IGroupsResult groupsResult) {
@@ -29,14 +29,14 @@ public class TotalResult implements IResult {
 	}
 	
 	/**
-	 * ͽʱ
-	 * @param ctx 
+	 * 数据推送结束时调用
+	 * @param ctx 计算上下文
 	 */
 	public void finish(Context ctx) {
 	}
 		
 	 /**
-	  * ͽȡյļ
+	  * 数据推送结束，取最终的计算结果
 	  * @return
 	  */
 	public Object result() {
@@ -60,9 +60,9 @@ public class TotalResult implements IResult {
 	}
 	
 	/**
-	 * ͹ݣۻյĽ
-	 * @param seq 
-	 * @param ctx 
+	 * 处理推送过来的数据，累积到最终的结果上
+	 * @param seq 数据
+	 * @param ctx 计算上下文
 	 */
 	public void push(Sequence table, Context ctx) {
 		if (table == null || table.length() == 0) return;
@@ -70,8 +70,8 @@ public class TotalResult implements IResult {
 	}
 
 	/**
-	 * ͹αݣۻյĽ
-	 * @param cursor α
+	 * 处理推送过来的游标数据，累积到最终的结果上
+	 * @param cursor 游标数据
 	 */
 	public void push(ICursor cursor) {
 		groupsResult.push(cursor);
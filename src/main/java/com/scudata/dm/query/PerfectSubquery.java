@@ -10,7 +10,7 @@ import com.scudata.common.MD5;
 import com.scudata.common.RQException;
 import com.scudata.common.UUID;
 
-public class PerfectSubquery //ֻfromӾеӲѯŻ
+public class PerfectSubquery //只针对from子句中的子查询的优化
 {
 	public static boolean optimizeSubquery(Token[] tokens, List<Token> sqlTokenList, boolean isSubquery, List<Boolean> canOptimizeList)
 	{
@@ -59,7 +59,7 @@ public class PerfectSubquery //ֻ
 					rightTokens = Arrays.copyOfRange(tokens, unionPos + 2, tokens.length);
 				}
 
-				while(leftTokens[0].getType() == Tokenizer.LPAREN)//
+				while(leftTokens[0].getType() == Tokenizer.LPAREN)//最外侧脱括号
 				{
 					int parenPos = Tokenizer.scanParen(leftTokens, 0, leftTokens.length);
 					if(parenPos == leftTokens.length - 1)
@@ -72,7 +72,7 @@ public class PerfectSubquery //ֻ
 					}
 				}
 				
-				Token[] bakTokens = SimpleSQL.copyTokens(leftTokens);//׼Ż
+				Token[] bakTokens = SimpleSQL.copyTokens(leftTokens);//准备尝试优化
 				List<Token> tokenList = new ArrayList<Token>();
 				boolean leftOptimize = optimizeSubquery(leftTokens, tokenList, isSubquery, new ArrayList<Boolean>());
 				if(!leftOptimize)
@@ -101,7 +101,7 @@ public class PerfectSubquery //ֻ
 				unionPos = Tokenizer.scanKeyWords(new String[]{"UNION", "EXCEPT", "INTERSECT", "MINUS"}, tokens, 0, tokens.length);
 				if(unionPos < 0)
 				{
-					while(tokens[0].getType() == Tokenizer.LPAREN)//
+					while(tokens[0].getType() == Tokenizer.LPAREN)//最外侧脱括号
 					{
 						int parenPos = Tokenizer.scanParen(tokens, 0, tokens.length);
 						if(parenPos == tokens.length - 1)
@@ -114,7 +114,7 @@ public class PerfectSubquery //ֻ
 						}
 					}
 					
-					bakTokens = SimpleSQL.copyTokens(tokens);//׼Ż
+					bakTokens = SimpleSQL.copyTokens(tokens);//准备尝试优化
 					tokenList = new ArrayList<Token>();
 					boolean rightOptimize = optimizeSubquery(tokens, tokenList, isSubquery, new ArrayList<Boolean>());
 					if(!rightOptimize)
@@ -318,7 +318,7 @@ public class PerfectSubquery //ֻ
 							{
 								if(columnTokens.length == 0)
 								{
-									throw new RQException("ӲѯбʽΪ");
+									throw new RQException("子查询中列表达式不能为空");
 								}
 								else if(columnTokens.length == 1 && (columnTokens[0].getType() == Tokenizer.IDENT || columnTokens[0].getString().equals("*")))
 								{
@@ -327,7 +327,7 @@ public class PerfectSubquery //ֻ
 								}
 								else
 								{
-									throw new RQException("ӲѯбʽҪȷı");
+									throw new RQException("子查询中列表达式必须要有正确的别名");
 								}
 							}
 							else
@@ -338,7 +338,7 @@ public class PerfectSubquery //ֻ
 								&& columnTokens[columnTokens.length - 2].getType() != Tokenizer.RPAREN
 								&& columnTokens[columnTokens.length - 2].getType() != Tokenizer.STRING)
 								{
-									throw new RQException("Ӳѯбʽĸʽڴ");
+									throw new RQException("子查询中列表达式的格式存在错误");
 								}
 										
 								Token aliasToken = columnTokens[columnTokens.length - 1];
@@ -507,7 +507,7 @@ public class PerfectSubquery //ֻ
 										i = i + 2;
 									}
 									else if(i < columnTokens.length - 2 
-									&& columnTokens[i + 1].getType() == Tokenizer.LPAREN) //fun()//Ǿۺͨʽ
+									&& columnTokens[i + 1].getType() == Tokenizer.LPAREN) //fun()//非聚合普通函数表达式
 									{
 										for(int j = i; j <= i + 1; j++)
 										{
@@ -657,7 +657,7 @@ public class PerfectSubquery //ֻ
 									i = i + 2;
 								}
 								else if(i < whereTokens.length - 2 
-								&& whereTokens[i + 1].getType() == Tokenizer.LPAREN) //fun()//Ǿۺͨʽ
+								&& whereTokens[i + 1].getType() == Tokenizer.LPAREN) //fun()//非聚合普通函数表达式
 								{
 									for(int j = i; j <= i + 1; j++)
 									{
@@ -832,7 +832,7 @@ public class PerfectSubquery //ֻ
 										i = i + 2;
 									}
 									else if(i < orderTokens.length - 2 
-									&& orderTokens[i + 1].getType() == Tokenizer.LPAREN) //fun()//Ǿۺͨʽ
+									&& orderTokens[i + 1].getType() == Tokenizer.LPAREN) //fun()//非聚合普通函数表达式
 									{
 										for(int j = i; j <= i + 1; j++)
 										{
@@ -906,7 +906,7 @@ public class PerfectSubquery //ֻ
 						
 					tokensListList.add(0, newTokensList);
 				}
-				else if(subCanOptimize) //ݲŻԺ滻Ż
+				else if(subCanOptimize) //暂不优化，以后替换成深度优化
 				{
 					if(fromTokens.length > 3 && fromTokens[0].isKeyWord("FROM") && fromTokens[1].getType() == Tokenizer.LPAREN)
 					{ 
@@ -1229,7 +1229,7 @@ public class PerfectSubquery //ֻ
 				}
 				else
 				{
-					throw new RQException("parallelӾʽ");
+					throw new RQException("parallel子句格式错误");
 				}
 			}
 			else
@@ -1325,7 +1325,7 @@ public class PerfectSubquery //ֻ
 		}
 		else
 		{
-			throw new RQException("ȱFROMӾ");
+			throw new RQException("缺少FROM子句");
 		}
 		
 		int parallelPos = Tokenizer.scanKeyWords(new String[]{"PARALLEL", "OLAP"}, tokens, columnsPos, fromPos);
@@ -1366,7 +1366,7 @@ public class PerfectSubquery //ֻ
 			}
 			else
 			{
-				throw new RQException("ŻӾʽ");
+				throw new RQException("优化子句格式错误");
 			}
 			
 			parallelPos = Tokenizer.scanKeyWords(new String[]{"PARALLEL", "OLAP"}, tokens, columnsPos, fromPos);
@@ -1746,7 +1746,7 @@ public class PerfectSubquery //ֻ
 			}
 			else
 			{
-				throw new RQException("regulateFieldTokensֻ֧SELECTӾWHEREӾ");
+				throw new RQException("regulateFieldTokens函数：现只支持SELECT子句和WHERE子句");
 			}
 			
 			tokens = new Token[tokenList.size()];
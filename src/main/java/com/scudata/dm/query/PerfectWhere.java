@@ -631,7 +631,7 @@ public class PerfectWhere
 				else if(i < len - 2 
 				&& whereTokens[i + 1].getType() == Tokenizer.LPAREN) //fun()
 				{
-					int end = Tokenizer.scanParen(whereTokens, i + 1, whereTokens.length);//ʽ
+					int end = Tokenizer.scanParen(whereTokens, i + 1, whereTokens.length);//函数表达式
 					appendBuffer.append(" AND ");
 					for(int j = i; j <= end; j++)
 					{
@@ -653,7 +653,7 @@ public class PerfectWhere
 			}
 			else if(token.getType() == Tokenizer.LPAREN)
 			{
-				int end = Tokenizer.scanParen(whereTokens, i, whereTokens.length);//űʽ
+				int end = Tokenizer.scanParen(whereTokens, i, whereTokens.length);//括号表达式
 				
 				int queryPos = Tokenizer.scanKeyWords(new String[]{"UNION","MINUS","EXCEPT","INTERSECT","SELECT"}, whereTokens, i + 1, end);
 				
@@ -878,7 +878,7 @@ public class PerfectWhere
 		{
 			if(node.getLeft() == null || node.getRight() == null)
 			{
-				throw new RQException("WHEREӾ﷨");
+				throw new RQException("WHERE子句语法错误");
 			}
 			getOnFromTokens(node.getLeft(), nodeList, tableAliasSet, outerFieldSet, innerFieldSet);
 			getOnFromTokens(node.getRight(), nodeList, tableAliasSet, outerFieldSet, innerFieldSet);
@@ -887,7 +887,7 @@ public class PerfectWhere
 		{
 			if(node.getLeft() == null || node.getRight() == null)
 			{
-				throw new RQException("WHEREӾ﷨");
+				throw new RQException("WHERE子句语法错误");
 			}
 			getOnFromTokens(node.getLeft(), null, tableAliasSet, null, null);
 			getOnFromTokens(node.getRight(), null, tableAliasSet, null, null);
@@ -951,7 +951,7 @@ public class PerfectWhere
 				{
 					if(hasOnlyEqual != null)
 					{
-						throw new RQException("WHEREӾĳʽ");
+						throw new RQException("WHERE子句中某布尔表达式错误");
 					}
 					hasOnlyEqual = false;
 					n = n + 1;
@@ -962,7 +962,7 @@ public class PerfectWhere
 				{
 					if(hasOnlyEqual != null)
 					{
-						throw new RQException("WHEREӾĳʽ");
+						throw new RQException("WHERE子句中某布尔表达式错误");
 					}
 					hasOnlyEqual = false;
 					n = n + 1;
@@ -973,7 +973,7 @@ public class PerfectWhere
 				{
 					if(hasOnlyEqual != null)
 					{
-						throw new RQException("WHEREӾĳʽ");
+						throw new RQException("WHERE子句中某布尔表达式错误");
 					}
 					hasOnlyEqual = false;
 					n = n + 1;
@@ -984,7 +984,7 @@ public class PerfectWhere
 				{
 					if(hasOnlyEqual != null)
 					{
-						throw new RQException("WHEREӾĳʽ");
+						throw new RQException("WHERE子句中某布尔表达式错误");
 					}
 					hasOnlyEqual = false;
 					n = n + 1;
@@ -993,7 +993,7 @@ public class PerfectWhere
 				{
 					if(hasOnlyEqual != null)
 					{
-						throw new RQException("WHEREӾĳʽ");
+						throw new RQException("WHERE子句中某布尔表达式错误");
 					}
 					hasOnlyEqual = false;
 				}
@@ -1001,7 +1001,7 @@ public class PerfectWhere
 				{
 					if(hasOnlyEqual != null)
 					{
-						throw new RQException("WHEREӾĳʽ");
+						throw new RQException("WHERE子句中某布尔表达式错误");
 					}
 					hasOnlyEqual = false;
 				}
@@ -1009,7 +1009,7 @@ public class PerfectWhere
 				{
 					if(hasOnlyEqual != null)
 					{
-						throw new RQException("WHEREӾĳʽ");
+						throw new RQException("WHERE子句中某布尔表达式错误");
 					}
 					hasOnlyEqual = true;
 				}
@@ -1120,7 +1120,7 @@ public class PerfectWhere
 		{
 			if(node.getLeft() == null || node.getRight() == null)
 			{
-				throw new RQException("WHEREӾ﷨");
+				throw new RQException("WHERE子句语法错误");
 			}
 			getTopFromTokens(node.getLeft(), nodeFieldMap, tablePath, tableAlias);
 			getTopFromTokens(node.getRight(), nodeFieldMap, tablePath, tableAlias);
@@ -1147,7 +1147,7 @@ public class PerfectWhere
 					}
 					else
 					{
-						throw new RQException("쳣Ĳʽ");
+						throw new RQException("异常的布尔表达式");
 					}
 				}
 				else if(token.getType() == Tokenizer.LPAREN)
@@ -356,7 +356,7 @@ public class SimpleJoin
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, EXISTSؼֺӲѯ");
+						throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, EXISTS关键字后面必须接子查询");
 					}
 				}
 				else if(tokens[i].isKeyWord("EXISTS") && i + 2 < len && tokens[i + 1].getType() == Tokenizer.LPAREN)
@@ -469,7 +469,7 @@ public class SimpleJoin
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, EXISTSؼֺӲѯ");
+						throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, EXISTS关键字后面必须接子查询");
 					}
 				}
 				
@@ -485,7 +485,7 @@ public class SimpleJoin
 						}
 						else
 						{
-							//ͳһµıΪ.ֲֶͬͬ
+							//统一起新的别名为：表名.列名，以区分不同表的同名字段
 							newName = "\"" + tokens[i].getString()+ "." + "1" + "\"";
 							i += 2;
 						}
@@ -499,7 +499,7 @@ public class SimpleJoin
 						}
 						else
 						{
-							//ͳһµıΪ.ֲֶͬͬ
+							//统一起新的别名为：表名.列名，以区分不同表的同名字段
 							newName = "\"" + tokens[i].getString() + "." + tokens[i+2].getString() + "\"";
 							i += 2;
 						}
@@ -513,10 +513,10 @@ public class SimpleJoin
 						}
 						else
 						{
-							//˳¼WHEREONӾеԭʼֶƵSELECTֶμ¼бԱʹ
+							//顺便记录WHERE和ON子句中的原始字段名称到SELECT字段记录列表以备使用
 							String oldName = tokens[i].getString() + tokens[i+1].getString() + tokens[i+2].getString();
 							selectList.add(oldName);
-							//ͳһµıΪ.ֲֶͬͬ
+							//统一起新的别名为：表名.列名，以区分不同表的同名字段
 							newName = "\"" + tokens[i].getString()+"."+tokens[i+2].getString() + "\"";
 							i += 2;
 						}
@@ -527,7 +527,7 @@ public class SimpleJoin
 					if(this instanceof JoinTable)
 					{
 						tableName = getTableNames().iterator().next();
-						//ͳһµıΪ.ֲֶͬͬ
+						//统一起新的别名为：表名.列名，以区分不同表的同名字段
 						newName = "\"" + tableName + "." + "1" + "\"";
 					}
 				}
@@ -536,7 +536,7 @@ public class SimpleJoin
 					if(this instanceof JoinTable)
 					{
 						tableName = getTableNames().iterator().next();
-						//ͳһµıΪ.ֲֶͬͬ
+						//统一起新的别名为：表名.列名，以区分不同表的同名字段
 						newName = "\"" + tableName + "." + tokens[i].getString() + "\"";
 					}
 				}
@@ -570,7 +570,7 @@ public class SimpleJoin
 					}
 					
 					ICursor icur = null;
-					if(isSubQuery) //Ӳѯ
+					if(isSubQuery) //子查询
 					{
 						Set<String> tableNames = rootNode.getTableNames();
 						Set<String> containsList = new HashSet<String>();
@@ -665,7 +665,7 @@ public class SimpleJoin
 									if(!(seq.get(1) instanceof BaseRecord) || seq.dataStruct() == null || seq.dataStruct().getFieldCount() != 1)
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, INӲѯ쳣");
+										throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, IN中子查询结果异常");
 									}
 									
 									newName = "(";
@@ -729,7 +729,7 @@ public class SimpleJoin
 									if(seq == null || seq.length() != 1 || !(seq.get(1) instanceof BaseRecord) || seq.dataStruct() == null || seq.dataStruct().getFieldCount() != 1)
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, WHEREӲѯ쳣");
+										throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, WHERE中子查询结果异常");
 									}
 								}
 								newName = getSQLValue(((BaseRecord)seq.get(1)).getFieldValue(0));
@@ -823,8 +823,8 @@ public class SimpleJoin
 					}
 					if(selectField.startsWith(prefix))
 					{
-						String fieldName = selectField.substring(prefix.length(), selectField.length() - 1); //עҪȥ""
-						sb.append(fieldName);//ԭֶ
+						String fieldName = selectField.substring(prefix.length(), selectField.length() - 1); //注意要脱去""
+						sb.append(fieldName);//原字段名
 						sb.append(" ");
 						if(fieldName.equals("1"))
 						{
@@ -832,11 +832,11 @@ public class SimpleJoin
 						}
 						else if(fieldName.equals("*"))
 						{
-							needRename = true;//ֶ
+							needRename = true;//过后补上新字段名
 						}
 						else
 						{
-							sb.append(selectField);//ֶб
+							sb.append(selectField);//新字段名作列别名
 						}
 					}
 					index++;
@@ -847,7 +847,7 @@ public class SimpleJoin
 					if(this.tableFile == null || this.tableFile.isEmpty())
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, Чӱڵ");
+						throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, 无效的连接子表节点");
 					}
 					
 					SimpleSelect ss = new SimpleSelect(ics, ctx);
@@ -1078,7 +1078,7 @@ public class SimpleJoin
 					}
 				}
 				
-				if(needRename)//select * from T, ѯʱûֶʱ
+				if(needRename)//select * from T, 查询时没起新字段名此时补上
 				{
 					String[] fieldNames = this.nodeStruct.getFieldNames();
 					Expression[] fieldExps = new Expression[fieldNames.length];
@@ -1274,7 +1274,7 @@ public class SimpleJoin
 				if(left == null || right == null)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, ĳ쳣JOIN ONӾ");
+					throw new RQException(mm.getMessage("syntax.error") + ":executeJoin, 某处存在异常的JOIN ON子句");
 				}
 				
 				left.executeJoin();
@@ -1398,7 +1398,7 @@ public class SimpleJoin
 					catch(RQException ex)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, FULL JOIN֧AND", ex);
+						throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, FULL JOIN仅支持AND连接", ex);
 					}
 					
 					List<Expression> leftExpList = new ArrayList<Expression>();
@@ -1420,14 +1420,14 @@ public class SimpleJoin
 							else
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, FULL JOINֵֵ֧", ex);
+								throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, FULL JOIN仅支持等值连接", ex);
 							}
 						}
 						
 						if(subFilterItems.length != 2)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, FULL JOINֵֵ֧");
+							throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, FULL JOIN仅支持等值连接");
 						}
 						
 						if(subFilterItems[0].indexOf("~.") != -1 && subFilterItems[0].indexOf("L.") == -1)
@@ -1445,7 +1445,7 @@ public class SimpleJoin
 						else
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, FULL JOINֶ֧ͬһĵֵ");
+							throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, FULL JOIN不支持两表字段在同一侧的等值连接");
 						}
 						
 						if(subFilterItems[1].indexOf("~.") != -1 && subFilterItems[1].indexOf("L.") == -1)
@@ -1484,7 +1484,7 @@ public class SimpleJoin
 						else
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, FULL JOINֶ֧ͬһĵֵ");
+							throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, FULL JOIN不支持两表字段在同一侧的等值连接");
 						}
 					}
 					
@@ -1517,7 +1517,7 @@ public class SimpleJoin
 						if(curs[1] instanceof IMultipath)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, xjoinxܶڹάֶ֧·α");
+							throw new RQException(mm.getMessage("syntax.error")+"JoinNode.executeJoin, xjoinx功能对于关联维表不支持多路游标");
 						}
 						this.nodeCursor = new SimpleXJoinxCursor(curs, exps, names, fps, option, ctx, dss);
 						this.nodeStruct = ((SimpleXJoinxCursor)this.nodeCursor).getTableDataStruct();
@@ -1689,13 +1689,13 @@ public class SimpleJoin
 		public int getStamp()
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":JoinTable.getStamp, ڵûӱǩ");
+			throw new RQException(mm.getMessage("syntax.error") + ":JoinTable.getStamp, 表节点没有连接标签");
 		}
 		
 		public void setStamp(int stamp)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":JoinTable.getStamp, ڵ㲻ӱǩ");
+			throw new RQException(mm.getMessage("syntax.error") + ":JoinTable.getStamp, 表节点不能设置连接标签");
 		}
 		
 		public boolean isMemoryNode()
@@ -1797,7 +1797,7 @@ public class SimpleJoin
 			if(this.tabDs == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, Ԥݽṹ");
+				throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, 必须预先设置数据结构");
 			}
 			
 			Sequence tab = super.get(n);
@@ -1838,14 +1838,14 @@ public class SimpleJoin
 							else
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, дδ֪II");
+								throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, 表中存在未知的数据类型II");
 							}
 						}
 					}
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, дδ֪I");
+						throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, 表中存在未知的数据类型I");
 					}
 					
 					for(int m=0, len=valueList.size(); m<len; m++)
@@ -1920,7 +1920,7 @@ public class SimpleJoin
 			if(this.tabDs == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinCursor.get, Ԥݽṹ");
+				throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinCursor.get, 必须预先设置数据结构");
 			}
 			
 			Sequence tab = super.get(n);
@@ -1961,14 +1961,14 @@ public class SimpleJoin
 							else
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinCursor.get, дδ֪II");
+								throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinCursor.get, 表中存在未知的数据类型II");
 							}
 						}
 					}
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinCursor.get, дδ֪I");
+						throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinCursor.get, 表中存在未知的数据类型I");
 					}
 					
 					for(int m=0, len=valueList.size(); m<len; m++)
@@ -2043,7 +2043,7 @@ public class SimpleJoin
 			if(this.tabDs == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, Ԥݽṹ");
+				throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, 必须预先设置数据结构");
 			}
 			
 			Sequence tab = super.get(n);
@@ -2084,14 +2084,14 @@ public class SimpleJoin
 							else
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, дδ֪II");
+								throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, 表中存在未知的数据类型II");
 							}
 						}
 					}
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, дδ֪I");
+						throw new RQException(mm.getMessage("syntax.error") + ":SimpleXJoinxCursor.get, 表中存在未知的数据类型I");
 					}
 					
 					for(int m=0, len=valueList.size(); m<len; m++)
@@ -2166,7 +2166,7 @@ public class SimpleJoin
 			if(this.tabDs == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":SimpleJoinCursor.get, Ԥݽṹ");
+				throw new RQException(mm.getMessage("syntax.error") + ":SimpleJoinCursor.get, 必须预先设置数据结构");
 			}
 			
 			Sequence tab = super.get(n);
@@ -2207,14 +2207,14 @@ public class SimpleJoin
 							else
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":SimpleJoinCursor.get, дδ֪II");
+								throw new RQException(mm.getMessage("syntax.error") + ":SimpleJoinCursor.get, 表中存在未知的数据类型II");
 							}
 						}
 					}
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":SimpleJoinCursor.get, дδ֪I");
+						throw new RQException(mm.getMessage("syntax.error") + ":SimpleJoinCursor.get, 表中存在未知的数据类型I");
 					}
 					
 					for(int m=0, len=valueList.size(); m<len; m++)
@@ -2252,10 +2252,10 @@ public class SimpleJoin
 
 	class SubQueryCursor extends SyncCursor
 	{
-		public static final int Exist_Type = 0; //Ҫֵ֤ڼɣexists
-		public static final int Select_Type = 1; //ҪȷֵֵΨһselect
-		public static final int In_Type = 2; //ҪȷֵֵɲΨһ, in
-		public static final int Where_Type = 3; //ҪȷֵֵΨһ, where
+		public static final int Exist_Type = 0; //不需要求出值证明存在即可，exists
+		public static final int Select_Type = 1; //需要求出确切值且值必须唯一，select
+		public static final int In_Type = 2; //需要求出确切值且值可不唯一, in
+		public static final int Where_Type = 3; //需要求出确切值且值必须唯一, where
 		
 		private int type = -1;
 		private ICellSet ics = null;
@@ -2273,7 +2273,7 @@ public class SimpleJoin
 			if(this.type != Exist_Type && this.type != Select_Type && this.type != In_Type && this.type != Where_Type)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, Ӳѯαʼ");
+				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, 子查询游标初始化参数错误");
 			}
 			this.ics = ics;
 			this.paramList = paramList;
@@ -2281,19 +2281,19 @@ public class SimpleJoin
 			if(this.subQueryListListList == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, Ӳѯαʼ");
+				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, 子查询游标初始化参数错误");
 			}
 			this.fieldNameListList = fieldNameListList;
 			if(this.fieldNameListList == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, Ӳѯαʼ");
+				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, 子查询游标初始化参数错误");
 			}
 			this.colNameList = colNameList;
 			if(this.colNameList == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, Ӳѯαʼ");
+				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, 子查询游标初始化参数错误");
 			}
 			this.ctx = ctx;
 			
@@ -2327,7 +2327,7 @@ public class SimpleJoin
 						if(!(obj instanceof BaseRecord))
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, ѯбɼ¼");
+							throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, 查询结果序列必须由记录组成");
 						}
 						BaseRecord rec = (BaseRecord) obj;
 						
@@ -2364,7 +2364,7 @@ public class SimpleJoin
 								if(sq.length() != 1 || !(sq.get(1) instanceof BaseRecord) || sq.dataStruct() == null || sq.dataStruct().getFieldCount() != 1)
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, SELECT/WHEREӾӲѯ쳣");
+									throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, SELECT/WHERE子句中子查询结果异常");
 								}
 								val = ((BaseRecord)sq.get(1)).getFieldValue(0);
 							}
@@ -2376,7 +2376,7 @@ public class SimpleJoin
 									if(!(sq.get(1) instanceof BaseRecord) || sq.dataStruct() == null || sq.dataStruct().getFieldCount() != 1)
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, INӾӲѯ쳣");
+										throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, IN子句中子查询结果异常");
 									}
 									v.add(((BaseRecord)sq.get(p)).getFieldValue(0));
 								}
@@ -2508,7 +2508,7 @@ public class SimpleJoin
 			if(tokens[start].getType() == Tokenizer.KEYWORD)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanTable, ȱʧ");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanTable, 表名缺失或类型有误");
 			}
 			else if(tokens[start].getType() == Tokenizer.LPAREN)
 			{
@@ -2601,13 +2601,13 @@ public class SimpleJoin
 			else
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanTable, ÿƴӱһ׼ı");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanTable, 每个拼接表都必须有一个标准的表名或别名");
 			}
 		}
 		if(!tableName.isEmpty())
 		{
 			FileObject fileObject = new FileObject(tableName, null, "s", ctx);
-			if(!fileObject.isExists()) //룬ȥ
+			if(!fileObject.isExists()) //可能有密码，尝试去除
 			{
 				int index = tableName.lastIndexOf(":");
 				if(index != -1)
@@ -2628,7 +2628,7 @@ public class SimpleJoin
 					catch(Exception ex)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanTable, 쳣ı:"+tableName);
+						throw new RQException(mm.getMessage("syntax.error") + ":scanTable, 异常的表名:"+tableName);
 					}
 					if(obj instanceof ICursor)
 					{
@@ -2658,7 +2658,7 @@ public class SimpleJoin
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanTable, ֵ֧ʱ");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanTable, 不支持的临时表数据类型");
 					}
 				}
 			}
@@ -2683,7 +2683,7 @@ public class SimpleJoin
 			if (start == next) 
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanNode, ʼλóλ");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanNode, 起始位置超出结束位置");
 			}
 			
 			int end = Tokenizer.scanComma(tokens, start, next);
@@ -2701,7 +2701,7 @@ public class SimpleJoin
 				if(check)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanJoin, FROMJOINؼֺıȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanJoin, FROM或JOIN关键字后的表的数量不正确");
 				}
 				
 				JoinNode node = new InnerJoin();
@@ -2769,7 +2769,7 @@ public class SimpleJoin
 					catch(Exception ex)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 쳣ı:"+expStr);
+						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 异常的表名:"+expStr);
 					}
 					if(obj instanceof ICursor)
 					{
@@ -2799,7 +2799,7 @@ public class SimpleJoin
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ֵ֧ʱ");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 不支持的临时表数据类型");
 					}
 					if(end + 1 != next)
 					{
@@ -2879,7 +2879,7 @@ public class SimpleJoin
 				{
 					if(tokens[index + 3].isKeyWord("EXTERNAL")) // && Sequence.getFunctionPoint(15)
 					{
-						stamp = External_Join; //SQL/*+EXTERNAL*/ǩڲ
+						stamp = External_Join; //简单SQL的/*+EXTERNAL*/标签仅供内部测试
 					}
 					else
 					{
@@ -3279,7 +3279,7 @@ public class SimpleJoin
 		}
 	}
 	
-	private int checkAllParallel(JoinNode node) //Ƿ߳ȡɱ
+	private int checkAllParallel(JoinNode node) //是否多线程取数由本程序决定
 	{
 		if(node instanceof JoinTable)
 		{
@@ -3316,14 +3316,14 @@ public class SimpleJoin
 		if(fromPos < 0 || fromPos == start)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, FROMؼȱʧλòȷ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, FROM关键字缺失或位置不正确");
 		}
 
 		int intoPos = Tokenizer.scanKeyWord("INTO", tokens, start, next);
 		if(intoPos >= fromPos)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, INTOؼֵλòȷ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, INTO关键字的位置不正确");
 		}
 		else if(intoPos >= 0)
 		{
@@ -3354,7 +3354,7 @@ public class SimpleJoin
 		if(wherePos >= 0 && wherePos < minPos)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, WHEREؼֵλòȷ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, WHERE关键字的位置不正确");
 		}
 		
 		minPos = pos(wherePos, minPos);
@@ -3363,7 +3363,7 @@ public class SimpleJoin
 		if(groupPos >= 0 && groupPos < minPos)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, GROUPؼֵλòȷ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, GROUP关键字的位置不正确");
 		}
 		
 		minPos = pos(groupPos , minPos);
@@ -3372,7 +3372,7 @@ public class SimpleJoin
 		if(havingPos >= 0 && havingPos < minPos)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, HAVINGؼֵλòȷ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, HAVING关键字的位置不正确");
 		}
 		
 		minPos = pos(havingPos , minPos);
@@ -3381,7 +3381,7 @@ public class SimpleJoin
 		if(orderPos >= 0 && orderPos < minPos)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ORDERؼֵλòȷ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ORDER关键字的位置不正确");
 		}
 		
 		minPos = pos(orderPos , minPos);
@@ -3390,7 +3390,7 @@ public class SimpleJoin
 		if(limitPos >= 0 && limitPos < minPos)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, LIMITؼֵλòȷ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, LIMIT关键字的位置不正确");
 		}
 		
 		minPos = pos(limitPos , minPos);
@@ -3399,7 +3399,7 @@ public class SimpleJoin
 		if(offsetPos >= 0 && offsetPos < minPos)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, OFFSETؼֵλòȷ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, OFFSET关键字的位置不正确");
 		}
 		
 		int byStart = pos(groupPos, wherePos, fromPos);
@@ -3409,20 +3409,20 @@ public class SimpleJoin
 		if(byPos < 0 && groupPos > 0)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ؼGROUPȱٹؼBY");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 关键字GROUP后面缺少关键字BY");
 		}
 		else if(havingPos > 0 && byPos > havingPos)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ؼBYλӦHAVING֮ǰ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 分组关键字BY位置应该在HAVING之前");
 		}
 		
 		int fromEnd = pos(wherePos, groupPos, byPos, havingPos, orderPos, limitPos, offsetPos, next);
 		
-		if(!hasJoin) //JOINǷʽ
+		if(!hasJoin) //不存在JOIN，检查是否是隐式内连接
 		{
 			int commaPos = Tokenizer.scanComma(tokens, fromPos, fromEnd);
-			if(commaPos == -1) //
+			if(commaPos == -1) //单表
 			{
 				List<Token[]> resultList = new ArrayList<Token[]>();
 				resultList.add(tokens);
@@ -3493,14 +3493,14 @@ public class SimpleJoin
 				}
 			}
 			
-			//whereӾǴandӣǰ
+			//where子句是纯and连接，可以提前处理
 			if(this.whereList.size() != 0)
 			{
 				fromEnd = whereEnd;
 			}
 		}
 		
-		//ȥѷϵinto\from\join\on\where(ȫandʱ)Ӿ
+		//去除已分析完毕的into\from\join\on\where(全and连接时)的子句
 		List<Token[]> tokensList = new ArrayList<Token[]>();
 		List<Token> tokenList = new ArrayList<Token>();
 		for(int i=0, len=tokens.length; i<len; i++)
@@ -3548,7 +3548,7 @@ public class SimpleJoin
 		return tokensList;
 	}
 	
-	private int scanQuantifies(Token []tokens, int start, int next) //ִֻй
+	private int scanQuantifies(Token []tokens, int start, int next) //只跳过不执行功能
 	{
 		Token t = tokens[start];
 		if(t.isKeyWord()) 
@@ -3560,7 +3560,7 @@ public class SimpleJoin
 				if (c >= next) 
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanQuantifies, ʼλóλ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanQuantifies, 起始位置超出结束位置");
 				}
 				t = tokens[c];
 			}
@@ -3571,7 +3571,7 @@ public class SimpleJoin
 				if (c >= next) 
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanQuantifies, ʼλóλ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanQuantifies, 起始位置超出结束位置");
 				}
 			}
 			
@@ -3657,7 +3657,7 @@ public class SimpleJoin
 											if(!tokens[i].getString().equalsIgnoreCase(tokens[i + 4].getString()))
 											{
 												MessageManager mm = ParseMessage.get();
-												throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, ۺϺۺֶһ");
+												throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, 聚合函数所属表必须与聚合字段所属表一致");
 											}
 											else
 											{
@@ -3683,7 +3683,7 @@ public class SimpleJoin
 								if(!this.rootNode.hasTableName(tableName))
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, SQLдδ֪ı");
+									throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, SQL语句中存在未知的表");
 								}
 								else
 								{
@@ -3711,7 +3711,7 @@ public class SimpleJoin
 								if(!this.rootNode.hasTableName(tableName))
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, SQLдδ֪ı");
+									throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, SQL语句中存在未知的表");
 								}
 								else
 								{
@@ -3727,7 +3727,7 @@ public class SimpleJoin
 									}
 									if(!selectTableAll)
 									{
-										//¼ԭʼֶƵSELECTֶμ¼бԱʹ
+										//记录原始字段名称到SELECT字段记录列表以备使用
 										String oldName = tokens[i].getString() + tokens[i+1].getString() + tokens[i+2].getString();
 										selectList.add(oldName);
 									}
@@ -3807,7 +3807,7 @@ public class SimpleJoin
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, EXISTSӾӲѯ");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, EXISTS子句后面必须接子查询语句");
 					}
 				}
 				else if(i + 1 < len && tokens[i].isKeyWord("IN") && tokens[i + 1].getType() == Tokenizer.LPAREN || i + 2 < len
@@ -3880,7 +3880,7 @@ public class SimpleJoin
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, EXISTSӾӲѯ");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, EXISTS子句后面必须接子查询语句");
 					}		
 				}
 				else if(tokens[i].getType() == Tokenizer.LPAREN && i + 1 < len) //SELECT/WHERE
@@ -3988,7 +3988,7 @@ public class SimpleJoin
 			if(couple > 1 || couple < -1)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":checkJoinOn, ؼJOINONƥ");
+				throw new RQException(mm.getMessage("syntax.error") + ":checkJoinOn, 关键字JOIN与ON不匹配");
 			}
 		}
 		
@@ -4008,7 +4008,7 @@ public class SimpleJoin
 			if(!node.analyzeBuffer(filter))
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":filterBrowse, ONӾдδ֪ı");
+				throw new RQException(mm.getMessage("syntax.error") + ":filterBrowse, ON子句中存在未知的表");
 			}
 			node.moveBuffer(0);
 			
@@ -4017,7 +4017,7 @@ public class SimpleJoin
 			if(left == null || right == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":filterCheck, ĳ쳣JOIN ONӾ");
+				throw new RQException(mm.getMessage("syntax.error") + ":filterCheck, 某处存在异常的JOIN ON子句");
 			}
 			
 			filterCheck(left);
@@ -4033,18 +4033,18 @@ public class SimpleJoin
 			if(!node.analyzeBuffer(filter))
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":filterBrowse, WHEREӾдδ֪ı");
+				throw new RQException(mm.getMessage("syntax.error") + ":filterBrowse, WHERE子句中存在未知的表");
 			}
 		}
 		
-		if(node instanceof InnerJoin)//whereInnerJoinʱҽڵ´
+		if(node instanceof InnerJoin)//where在InnerJoin时能向左右节点试着向下传递
 		{
 			JoinNode left = node.getLeft();
 			if(left != null)
 			{
-				if(left.analyzeBuffer(filter))//whereеıȫڵ
+				if(left.analyzeBuffer(filter))//若where中的表全部在左节点中
 				{
-					filterBrowse(left, filter, recycle);//ڵ´
+					filterBrowse(left, filter, recycle);//试着由左节点继续向下传递
 					return;
 				}
 			}
@@ -4053,9 +4053,9 @@ public class SimpleJoin
 				JoinNode right = node.getRight();
 				if(right != null)
 				{
-					if(right.analyzeBuffer(filter))//whereеıȫҽڵ
+					if(right.analyzeBuffer(filter))//若where中的表全部在右节点中
 					{
-						filterBrowse(right, filter, recycle);//ҽڵ´
+						filterBrowse(right, filter, recycle);//试着由右节点继续向下传递
 						return;
 					}
 				}
@@ -4097,33 +4097,33 @@ public class SimpleJoin
 			}
 			if(contains)
 			{
-				node.moveBuffer(1); //ѯֶεĹ鲢ڵǰڵwhere
+				node.moveBuffer(1); //含主查询字段的归并于当前节点的where中
 			}
 			else
 			{
-				node.moveBuffer(0); //Թ鲢on
+				node.moveBuffer(0); //否则可以归并于on中
 			}
 		}
-		else if(node instanceof LeftJoin)//whereLeftJoinʱֻڵ´ݲܹ鲢ڵǰڵon
+		else if(node instanceof LeftJoin)//where在LeftJoin时只能向左节点试着向下传递不能归并于当前节点的on中
 		{
 			JoinNode left = node.getLeft();
 			if(left != null)
 			{
-				if(left.analyzeBuffer(filter))//whereеıȫڵ
+				if(left.analyzeBuffer(filter))//若where中的表全部在左节点中
 				{
-					filterBrowse(left, filter, recycle);//ڵ´
+					filterBrowse(left, filter, recycle);//试着由左节点继续向下传递
 					return;
 				}
 			}
-			node.moveBuffer(1); //鲢ڵǰڵwhere
+			node.moveBuffer(1); //否则归并于当前节点的where中
 		}
-		else if(node instanceof JoinTable)//whereλǱڵ㲻ܹ鲢onǰ
+		else if(node instanceof JoinTable)//where所在位置是表节点不能归并到on但可以提前过滤
 		{
 			PerfectWhere pw = new PerfectWhere(Tokenizer.parse(filter), this.parameterList);
 			String topFilter = pw.getTopFromTokens(null, null, ((JoinTable)node).getTableFile(), ((JoinTable)node).getTableNames().iterator().next());
 			if(topFilter == null)
 			{
-				node.moveBuffer(1);//鲢ڵǰڵwhere
+				node.moveBuffer(1);//归并于当前节点的where中
 			}
 			else
 			{
@@ -4136,14 +4136,14 @@ public class SimpleJoin
 					filter += filterToken.getSpaces();
 				}
 				node.setBuffer(filter);
-				node.moveBuffer(1);//鲢ڵǰڵwhere
+				node.moveBuffer(1);//归并于当前节点的where中
 			}
 		}
 		
 		String where = node.getBuffer();
 		if(where != null && !where.isEmpty())
 		{
-			recycle.add(where); //޷ǰʹõwhereȫƴ
+			recycle.add(where); //无法提前使用的where回收留到全部表拼完后用
 			node.setBuffer(null);
 		}
 	}
@@ -4156,7 +4156,7 @@ public class SimpleJoin
 			if(!node.analyzeBuffer(field))
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":selectBrowse, SELECTӾдδ֪ı");
+				throw new RQException(mm.getMessage("syntax.error") + ":selectBrowse, SELECT子句中存在未知的表");
 			}
 		}
 		
@@ -4171,7 +4171,7 @@ public class SimpleJoin
 			if(left == null || right == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":selectBrowse, ĳ쳣JOIN ONӾ");
+				throw new RQException(mm.getMessage("syntax.error") + ":selectBrowse, 某处存在异常的JOIN ON子句");
 			}
 			
 			if(left.analyzeBuffer(field))
@@ -4311,7 +4311,7 @@ public class SimpleJoin
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, existsؼֺӲѯ");
+						throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, exists关键字后面必须接子查询");
 					}
 				}
 				else if(tokens[i].isKeyWord("EXISTS") && i + 2 < len && tokens[i + 1].getType() == Tokenizer.LPAREN)
@@ -4433,7 +4433,7 @@ public class SimpleJoin
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, existsؼֺӲѯ");
+						throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, exists关键字后面必须接子查询");
 					}
 				}
 				else if(tokens[i].isKeyWord("NOT") && i + 3 < len && tokens[i + 1].isKeyWord("IN") && tokens[i + 2].getType() == Tokenizer.LPAREN)
@@ -4530,7 +4530,7 @@ public class SimpleJoin
 								if(!(seq.get(1) instanceof BaseRecord) || seq.dataStruct() == null || seq.dataStruct().getFieldCount() != 1)
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, INӲѯ쳣");
+									throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, IN中子查询结果异常");
 								}
 								
 								Token tk = new Token(Tokenizer.KEYWORD, "NOT", index++, "NOT");
@@ -4656,7 +4656,7 @@ public class SimpleJoin
 								if(!(seq.get(1) instanceof BaseRecord) || seq.dataStruct() == null || seq.dataStruct().getFieldCount() != 1)
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, INӲѯ쳣");
+									throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, IN中子查询结果异常");
 								}
 								
 								Token tk = new Token(Tokenizer.KEYWORD, "IN", index++, "IN");
@@ -4785,7 +4785,7 @@ public class SimpleJoin
 							if(seq == null || seq.length() != 1 || !(seq.get(1) instanceof BaseRecord) || seq.dataStruct() == null || seq.dataStruct().getFieldCount() != 1)
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, SELECT/WHEREӾӲѯ쳣");
+								throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, 在SELECT/WHERE子句中子查询结果异常");
 							}
 							
 							Object val = ((BaseRecord)seq.get(1)).getFieldValue(0);
@@ -4874,7 +4874,7 @@ public class SimpleJoin
 											if(!tokens[i].getString().equalsIgnoreCase(tokens[i+4].getString()))
 											{
 												MessageManager mm = ParseMessage.get();
-												throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, ۺϺۺֶһ");
+												throw new RQException(mm.getMessage("syntax.error") + ":getNewTokens, 聚合函数所属表必须与聚合字段所属表一致");
 											}
 											else
 											{
@@ -5043,7 +5043,7 @@ public class SimpleJoin
 			hasJoin = false;
 		}
 		
-		List<Token[]> tokensList = scanFrom(tokens, start, next, hasJoin); //жǷǶѯ
+		List<Token[]> tokensList = scanFrom(tokens, start, next, hasJoin); //判断是否是多表查询，如果是则处理多表
 		
 		if(this.singleTable)
 		{
@@ -5109,7 +5109,7 @@ public class SimpleJoin
 								else
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":query, øʽ");
+									throw new RQException(mm.getMessage("syntax.error") + ":query, 表别名引用格式错误");
 								}
 							}
 							else
@@ -5125,7 +5125,7 @@ public class SimpleJoin
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":query, Чıڵ");
+						throw new RQException(mm.getMessage("syntax.error") + ":query, 无效的表节点");
 					}
 				}
 			}
@@ -5168,32 +5168,32 @@ public class SimpleJoin
 		}
 		else
 		{
-			filterCheck(null); //onӾ
+			filterCheck(null); //处理on子句
 			if(this.whereList != null)
 			{
-				for(String where : this.whereList) //whereӾ
+				for(String where : this.whereList) //处理where子句
 				{
 					filterBrowse(null, where, this.recycleList);
 				}
 			}
 			
-			scanSelect(tokensList); //Ӿ
+			scanSelect(tokensList); //处理其他子句
 			if(this.selectList != null)
 			{
-				for(String select:this.selectList) //ȷselectӾ漰ֶ
+				for(String select:this.selectList) //确定select子句涉及到的字段
 				{
 					selectBrowse(null, select);
 				}
 			}
 			if(this.rootNode != null)
 			{
-				//ִзֱƴ
+				//执行所有分表的拼接
 				this.rootNode.executeJoin();
 				
-				//µtoken,עҪƴ֮ԴT.*ʽ
+				//生成新的token数组,注意要在拼接之后，以处理像T.*这种特殊形式
 				Token[] newTokens = getNewTokens(tokensList);
 				
-				//ȡԭʼαݽṹ
+				//取原始游标和数据结构
 				ICursor icursor = this.rootNode.getCursor();
 				DataStruct struct = this.rootNode.getStruct();
 				icursor.setDataStruct(struct);
@@ -5314,7 +5314,7 @@ public class SimpleJoin
 					icursor = icur;
 				}
 				
-				//ѯѡ
+				//查询最终选出列
 				SimpleSelect sdql = new SimpleSelect(this.ics, this.ctx);
 				sdql.setMemory(this.isMemory);
 				if(this.parallelNumber > 1)
@@ -5337,7 +5337,7 @@ public class SimpleJoin
 				int lastdot = intoFileName.lastIndexOf(".");
 				if (lastdot == -1) {
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":query, ʶintoļ");
+					throw new RQException(mm.getMessage("syntax.error") + ":query, 不认识into文件类型");
 				}
 				String ext = intoFileName.substring(lastdot);
 				intoFileName = Expression.replaceMacros(intoFileName.substring(0,lastdot), null, ctx);
@@ -5388,7 +5388,7 @@ public class SimpleJoin
 					if(!create)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":query, ִintoָдļ·ʧ");
+						throw new RQException(mm.getMessage("syntax.error") + ":query, 执行into指令中创建文件路径失败");
 					}
 				}
 				catch(Exception ex)
@@ -5398,7 +5398,7 @@ public class SimpleJoin
 			}
 			
 			String password = null;
-			if(Pattern.compile("[^\\'\\\"\\f\\n\\r\\t\\v]+\\.[cC][tT][xX] *\\: *\\'[^\\'\\\"\\f\\n\\r\\t\\v]*\\'").matcher(this.intoFileName).matches()) //ļ
+			if(Pattern.compile("[^\\'\\\"\\f\\n\\r\\t\\v]+\\.[cC][tT][xX] *\\: *\\'[^\\'\\\"\\f\\n\\r\\t\\v]*\\'").matcher(this.intoFileName).matches()) //组表文件可以设置密码
 			{
 				Matcher matcher = Pattern.compile("[^\\'\\\"\\f\\n\\r\\t\\v]+\\.[cC][tT][xX](?= *\\: *\\'[^\\'\\\"\\f\\n\\r\\t\\v]*\\')").matcher(this.intoFileName);
 				if(matcher.find())
@@ -5408,13 +5408,13 @@ public class SimpleJoin
 					if(!password.startsWith(":"))
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":query, intoʽ");
+						throw new RQException(mm.getMessage("syntax.error") + ":query, into语句密码格式不对");
 					}
 					password = password.substring(1).trim();
 					if(!password.startsWith("'") || !password.endsWith("'"))
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":query, intoʽ");
+						throw new RQException(mm.getMessage("syntax.error") + ":query, into语句密码格式不对");
 					}
 					password = password.substring(1, password.length() - 1);
 					this.intoFileName = realName;
@@ -5444,7 +5444,7 @@ public class SimpleJoin
 						if (efo.getFirstRecordDataStruct().isCompatible(ds)) aopt+="a";
 						else {
 							MessageManager mm = ParseMessage.get();
-							throw  new RQException(mm.getMessage("syntax.error") + ":query, SELECT INTO file has existed not compatible");
+							throw  new RQException(mm.getMessage("syntax.error") + ":query, SELECT INTO file has existed， not compatible！");
 						}
 					} else if(this.intoFileName.toLowerCase().endsWith(".xls")	|| this.intoFileName.toLowerCase().endsWith(".xlsx")) {
 						ExcelTool et = new ExcelTool(fo, true, this.intoFileName.toLowerCase().endsWith(".xlsx"), false, null);
@@ -5452,12 +5452,12 @@ public class SimpleJoin
 						if (t.dataStruct().isCompatible(this.icur.getDataStruct())) aopt+="a";
 						else {
 							MessageManager mm = ParseMessage.get();
-							throw  new RQException(mm.getMessage("syntax.error") + ":query, SELECT INTO file has existed not compatible");
+							throw  new RQException(mm.getMessage("syntax.error") + ":query, SELECT INTO file has existed， not compatible！");
 						}
 					}
 				} catch (IOException e) {
 					MessageManager mm = ParseMessage.get();
-					throw  new RQException(mm.getMessage("syntax.error") + ":query, SELECT INTO file has existed not compatible");
+					throw  new RQException(mm.getMessage("syntax.error") + ":query, SELECT INTO file has existed， not compatible！");
 				}
 			}
 			
@@ -5474,7 +5474,7 @@ public class SimpleJoin
 						fo.delete();
 					}
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":query, ݵBTXļʧ", e);
+					throw new RQException(mm.getMessage("syntax.error") + ":query, 将数据导入BTX文件失败", e);
 				}
 			}
 			else if(this.intoFileName.toLowerCase().endsWith(".txt"))
@@ -5490,7 +5490,7 @@ public class SimpleJoin
 						fo.delete();
 					}
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":query, ݵTXTļʧ", e);
+					throw new RQException(mm.getMessage("syntax.error") + ":query, 将数据导入TXT文件失败", e);
 				}
 			}
 			else if(this.intoFileName.toLowerCase().endsWith(".csv"))
@@ -5506,7 +5506,7 @@ public class SimpleJoin
 						fo.delete();
 					}
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":query, ݵCSVļʧ", e);
+					throw new RQException(mm.getMessage("syntax.error") + ":query, 将数据导入CSV文件失败", e);
 				}
 			}
 			else if(this.intoFileName.toLowerCase().endsWith(".xls"))
@@ -5525,7 +5525,7 @@ public class SimpleJoin
 						fo.delete();
 					}
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":query, α굼xlsļʧ", e);
+					throw new RQException(mm.getMessage("syntax.error") + ":query, 游标导入xls文件失败", e);
 				}
 				finally
 				{
@@ -5559,7 +5559,7 @@ public class SimpleJoin
 						fo.delete();
 					}
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":query, α굼xlsļʧ", e);
+					throw new RQException(mm.getMessage("syntax.error") + ":query, 游标导入xls文件失败", e);
 				}
 				finally
 				{
@@ -5580,7 +5580,7 @@ public class SimpleJoin
 			else
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":query, δ֪ļ");
+				throw new RQException(mm.getMessage("syntax.error") + ":query, 未知的文件类型");
 			}
 			
 			for (int i=1; i<intoFiles.size(); i++) {
@@ -5639,10 +5639,10 @@ public class SimpleJoin
 			String tableName = entry.getKey();
 			Object tableObject = entry.getValue();
 			JoinTable tableNode = null;
-			if(tableObject instanceof String) //ֱ֧ļ·
+			if(tableObject instanceof String) //不再支持表文件路径
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":setWithTableMap, WITHӾֻʹüűӲѯ");
+				throw new RQException(mm.getMessage("syntax.error") + ":setWithTableMap, WITH子句中只能使用集算器脚本或子查询语句");
 			}
 			else if(tableObject instanceof Expression)
 			{
@@ -5675,7 +5675,7 @@ public class SimpleJoin
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":setWithTableMap, ֵ֧ʱ");
+					throw new RQException(mm.getMessage("syntax.error") + ":setWithTableMap, 不支持的临时表数据类型");
 				}
 			}
 			else if(tableObject instanceof SimpleSQL)
@@ -5733,7 +5733,7 @@ public class SimpleJoin
 		else
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("function.paramError") + ":getSQLValue, ֵ֧");
+			throw new RQException(mm.getMessage("function.paramError") + ":getSQLValue, 不支持的数据类型");
 		}
 	}
 	
@@ -5747,7 +5747,7 @@ public class SimpleJoin
 		if(ds == null)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ѯȱݽṹ");
+			throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, 查询结果序列缺少数据结构");
 		}
 		
 		if(subQueryEntryList.isEmpty())
@@ -5770,13 +5770,13 @@ public class SimpleJoin
 				if(fromPos <= 0)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, FROMؼȱʧ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, FROM关键字缺失");
 				}
 				int wherePos = Tokenizer.scanKeyWord("WHERE", subQueryTokens, 0, subQueryTokens.length);
 				if(wherePos >= 0 && wherePos < fromPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, WHEREؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, WHERE关键字的位置不正确");
 				}
 				if(wherePos < 0)
 				{
@@ -5787,35 +5787,35 @@ public class SimpleJoin
 				if(groupPos >= 0 && groupPos < wherePos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, GROUPؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, GROUP关键字的位置不正确");
 				}
 				minPos = pos(groupPos, minPos);
 				int havingPos = Tokenizer.scanKeyWord("HAVING", subQueryTokens, 0, subQueryTokens.length);
 				if(havingPos >= 0 && havingPos < groupPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, HAVINGؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, HAVING关键字的位置不正确");
 				}
 				minPos = pos(havingPos, minPos);
 				int orderPos = Tokenizer.scanKeyWord("ORDER", subQueryTokens, 0, subQueryTokens.length);
 				if(orderPos >= 0 && orderPos < minPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ORDERؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ORDER关键字的位置不正确");
 				}
 				minPos = pos(orderPos , minPos);
 				int limitPos = Tokenizer.scanKeyWord("LIMIT", subQueryTokens, 0, subQueryTokens.length);
 				if(limitPos >= 0 && limitPos < minPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, LIMITؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, LIMIT关键字的位置不正确");
 				}
 				minPos = pos(limitPos , minPos);
 				int offsetPos = Tokenizer.scanKeyWord("OFFSET", subQueryTokens, 0, subQueryTokens.length);
 				if(offsetPos >= 0 && offsetPos < minPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, OFFSETؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, OFFSET关键字的位置不正确");
 				}
 				int byStart = pos(groupPos, wherePos, fromPos);
 				int byEnd = pos(havingPos, orderPos, limitPos, offsetPos, subQueryTokens.length);
@@ -5823,12 +5823,12 @@ public class SimpleJoin
 				if(byPos < 0 && groupPos > 0)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ؼGROUPȱٹؼBY");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, 关键字GROUP后面缺少关键字BY");
 				}
 				else if(havingPos > 0 && byPos > havingPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ؼBYλӦHAVING֮ǰ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, 分组关键字BY位置应该在HAVING之前");
 				}
 				
 				int whereEnd = pos(groupPos, byPos, havingPos, orderPos, limitPos, offsetPos, subQueryTokens.length);
@@ -5836,28 +5836,28 @@ public class SimpleJoin
 				if(intoPos >= fromPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, INTOؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, INTO关键字的位置不正确");
 				}
 				int columnEnd = pos(intoPos, fromPos);
 				int selectPos = Tokenizer.scanKeyWord("SELECT", subQueryTokens, 0, subQueryTokens.length);
 				if(selectPos < 0)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, SELECTؼȱʧ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, SELECT关键字缺失");
 				}
 				int columnStart = selectPos;
 				int distinctPos = Tokenizer.scanKeyWord("DISTINCT", subQueryTokens, 0, subQueryTokens.length);
 				if(distinctPos >= 0 && distinctPos < selectPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, DISTINCTؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, DISTINCT关键字的位置不正确");
 				}
 				columnStart = pos(distinctPos, columnStart);
 				int topPos = Tokenizer.scanKeyWord("TOP", subQueryTokens, 0, subQueryTokens.length);
 				if(topPos >= 0 && topPos < columnStart)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, TOPؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, TOP关键字的位置不正确");
 				}
 				columnStart = pos(topPos, columnStart);
 				if(columnStart == topPos)
@@ -5890,7 +5890,7 @@ public class SimpleJoin
 						if(Tokenizer.scanComma(columnTokens, 0, columnTokens.length) != -1)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ӲѯSELECTֶα뵥");
+							throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, 子查询中SELECT字段必须单列");
 						}
 						if(columnTokens[columnTokens.length - 1].getSpaces().isEmpty())
 						{
@@ -5988,15 +5988,15 @@ public class SimpleJoin
 						if(fltExps.length != 2)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, ֵʽ﷨");
+							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, 等值布尔表达式语法错误");
 						}
 						
-						if(outerFieldSet.contains(fltExps[0].trim().toLowerCase())) //ⲿֶ
+						if(outerFieldSet.contains(fltExps[0].trim().toLowerCase())) //外部字段
 						{
 							String numberCode = ExpressionTranslator.translateExp(fltExps[0].toLowerCase(), fn2cnMap);
 							outerExpsList.add(new Expression(numberCode));
 						}
-						else if(innerFieldSet.contains(fltExps[0].trim().toLowerCase())) //ڲֶ
+						else if(innerFieldSet.contains(fltExps[0].trim().toLowerCase())) //内部字段
 						{
 							String numberCode = ExpressionTranslator.translateExp(fltExps[0].toLowerCase(), fn2cnMap);
 							innerExpsList.add(new Expression(numberCode));
@@ -6004,15 +6004,15 @@ public class SimpleJoin
 						else
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, δֶ֪");
+							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, 未知的字段");
 						}
 						
-						if(outerFieldSet.contains(fltExps[1].trim().toLowerCase())) //ⲿֶ
+						if(outerFieldSet.contains(fltExps[1].trim().toLowerCase())) //外部字段
 						{
 							String numberCode = ExpressionTranslator.translateExp(fltExps[1].toLowerCase(), fn2cnMap);
 							outerExpsList.add(new Expression(numberCode));
 						}
-						else if(innerFieldSet.contains(fltExps[1].trim().toLowerCase())) //ڲֶ
+						else if(innerFieldSet.contains(fltExps[1].trim().toLowerCase())) //内部字段
 						{
 							String numberCode = ExpressionTranslator.translateExp(fltExps[1].toLowerCase(), fn2cnMap);
 							innerExpsList.add(new Expression(numberCode));
@@ -6020,7 +6020,7 @@ public class SimpleJoin
 						else
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, δֶ֪");
+							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, 未知的字段");
 						}
 					}
 					
@@ -6077,7 +6077,7 @@ public class SimpleJoin
 								if(fieldName.substring(1, fieldName.length() - 1).indexOf("\"") != -1)
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, 쳣ֶ");
+									throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, 异常的字段名");
 								}
 								genericFieldName = "\"" + genericFieldName + "\"";
 							}
@@ -6123,13 +6123,13 @@ public class SimpleJoin
 		return icur;
 	}
 	
-	private Token[] scanParallel(Token[] tokens) // /*+parallel*/
+	private Token[] scanParallel(Token[] tokens) // 处理/*+parallel*/
 	{
 		int select = Tokenizer.scanKeyWord("SELECT", tokens, 0, tokens.length);
 		if(select == -1)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanOlap, ȱselectؼ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanOlap, 语句缺少select关键字");
 		}
 		int start = select + 1;
 		
@@ -6167,12 +6167,12 @@ public class SimpleJoin
 					this.parallelNumber = Integer.parseInt(tokens[i + 5].getString());
 					if(this.parallelNumber <= 0)
 					{
-						throw new RQException("0");
+						throw new RQException("并行数必须大于0");
 					}
 				}
 				catch(Exception ex)
 				{
-					throw new RQException("ô", ex);
+					throw new RQException("并行数设置错误", ex);
 				}
 				i = i + 8;
 				start = start + 9;
@@ -6212,7 +6212,7 @@ public class SimpleJoin
 				if(leftList.isEmpty())
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error")+"splitEqual, ȱƥ");
+					throw new RQException(mm.getMessage("syntax.error")+"splitEqual, 缺少匹配的左括号");
 				}
 				leftList.remove(leftList.size() - 1);
 			}
@@ -6223,27 +6223,27 @@ public class SimpleJoin
 			else if(leftList.isEmpty() && c == '=' && a == '!')
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error")+"splitEqual, ֵӲӦֲֵ");
+				throw new RQException(mm.getMessage("syntax.error")+"splitEqual, 等值连接不应出现不等值运算");
 			}
 			else if(leftList.isEmpty() && c == '=' && a == '>')
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error")+"splitEqual, ֵӲӦֲֵ");
+				throw new RQException(mm.getMessage("syntax.error")+"splitEqual, 等值连接不应出现不等值运算");
 			}
 			else if(leftList.isEmpty() && c == '=' && a == '<')
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error")+"splitEqual, ֵӲӦֲֵ");
+				throw new RQException(mm.getMessage("syntax.error")+"splitEqual, 等值连接不应出现不等值运算");
 			}
 			else if(leftList.isEmpty() && c == '>')
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error")+"splitEqual, ֵӲӦֲֵ");
+				throw new RQException(mm.getMessage("syntax.error")+"splitEqual, 等值连接不应出现不等值运算");
 			}
 			else if(leftList.isEmpty() && c == '<')
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error")+"splitEqual, ֵӲӦֲֵ");
+				throw new RQException(mm.getMessage("syntax.error")+"splitEqual, 等值连接不应出现不等值运算");
 			}
 			a = c;
 		}
@@ -6275,7 +6275,7 @@ public class SimpleJoin
 				if(leftList.isEmpty())
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error")+"splitAnd, ȱƥ");
+					throw new RQException(mm.getMessage("syntax.error")+"splitAnd, 缺少匹配的左括号");
 				}
 				leftList.remove(leftList.size() - 1);
 			}
@@ -6286,7 +6286,7 @@ public class SimpleJoin
 			else if(leftList.isEmpty() && c == '|' && a == '|')
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error")+"splitAnd, ANDӲӦOR");
+				throw new RQException(mm.getMessage("syntax.error")+"splitAnd, AND连接不应出现OR运算");
 			}
 			a = c;
 		}
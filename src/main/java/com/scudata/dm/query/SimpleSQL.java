@@ -25,7 +25,7 @@ import com.scudata.dw.Cursor;
 import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
-//ļesprocĿ¼Ŀ¼
+//文件从esproc的主目录和搜索目录查找
 
 public class SimpleSQL
 {
@@ -44,7 +44,7 @@ public class SimpleSQL
 	public static final int TYPE_INSERT = 1;
 	public static final int TYPE_UPDATE = 2;
 	public static final int TYPE_DELETE = 3;
-	public static final int TYPE_COMMIT = 4;//ύعȷ
+	public static final int TYPE_COMMIT = 4;//包括提交或回滚两种确认命令
 	
 	public SimpleSQL(String sql, List<Object> paramValues)
 	{
@@ -128,7 +128,7 @@ public class SimpleSQL
 		this.next = ((next == -1) ? (sqlTokens == null ? 0 : sqlTokens.length) : next);
 	}
 	
-	//ṩAPI
+	//对外提供的API
 	public Object execute()
 	{
 		if(this.type == TYPE_SELECT)
@@ -139,7 +139,7 @@ public class SimpleSQL
 			}
 			ICursor icur = this.select.query(this.sqlTokens, this.start, this.next);
 			this.dataStruct = this.select.getDataStruct();
-			//ȥֶα""
+			//去除字段别名里的""
 			String[] fieldNames = new String[this.dataStruct.getFieldCount()];
 			Expression[] fieldExps = new Expression[this.dataStruct.getFieldCount()];
 			int index = 0;
@@ -166,7 +166,7 @@ public class SimpleSQL
 				icur = new MemoryCursor(new Table(this.dataStruct));
 			}
 			icur.setDataStruct(this.dataStruct);
-			//ǷCSܵ, CSܵװ淵
+			//检查是否有CS功能点, 无CS功能点的轻装版返回序表对象
 			//if (!Sequence.getFunctionPoint(5)) 
 			//{
 			//	return icur.fetch();
@@ -191,7 +191,7 @@ public class SimpleSQL
 		return null;
 	}
 	
-	//SQLڲʵǶײѯ
+	//仅供简单SQL内部调用以实现嵌套查询
 	protected ICursor query()
 	{
 		if(this.paramValues != null && !this.paramValues.isEmpty())
@@ -205,7 +205,7 @@ public class SimpleSQL
 			icur = new MemoryCursor(new Table(this.dataStruct));
 		}
 		icur.setDataStruct(this.dataStruct);
-		//
+		//处理完毕
 		return icur;
 	}
 	
@@ -236,7 +236,7 @@ public class SimpleSQL
 		this.select.setMemory(isMemory);
 	}
 	
-	public static int checkParallel(FileObject file)//鼯ļжǷԲжȡǷ@z
+	public static int checkParallel(FileObject file)//检查集文件的类型以判断是否可以并行读取即是否由@z生成
 	{
 		InputStream is = file.getInputStream();
 		ObjectReader in = new ObjectReader(is);
@@ -273,11 +273,11 @@ public class SimpleSQL
 		return type;
 	}
 	
-	public static Token[] optimizeQuery(Token[] sqlTokens, int[] posBuf)//Աйcount(*)ӲѯŻ
+	public static Token[] optimizeQuery(Token[] sqlTokens, int[] posBuf)//针对北京银行工程中count(*)和子查询做特殊优化
 	{
 		if(posBuf == null || posBuf.length != 2)
 		{
-			throw new RQException("");
+			throw new RQException("参数个数错误");
 		}
 		
 		Token[] bakTokens = copyTokens(sqlTokens);
@@ -335,8 +335,8 @@ public class SimpleSQL
 		try {
 			ConfigUtil.load("d:\\esProcData\\raqsoftConfig.xml");
 			Context ctx = new Context();
-//			Object o = AppUtil.executeSql("select * from D:/esProcData/Ա.ctx where 1 = 2", null, ctx, false);
-			//			Object o = AppUtil.executeSql("select top 1 * from D:/esProcData/Ա.ctx", null, ctx, false);
+//			Object o = AppUtil.executeSql("select * from D:/esProcData/员工.ctx where 1 = 2", null, ctx, false);
+			//			Object o = AppUtil.executeSql("select top 1 * from D:/esProcData/员工.ctx", null, ctx, false);
 //			if (o != null) {
 //				if (o instanceof com.raqsoft.dm.cursor.SubCursor) {
 //					System.out.println(((com.raqsoft.dm.cursor.SubCursor)o).fetch());
@@ -31,8 +31,8 @@ public class SimpleSQLTest {
 //			Object o = AppUtil.executeSql("select ee.DEPT,max(ee.BIRTHDAY) bir,avg(ee.SALARY) sal from d:/emp8.btx as ee join d:/dep8.btx as dd on dd.DEPT = ee.DEPT group by ee.DEPT having avg(ee.SALARY) > 8000", null, ctx);
 //			Object o = AppUtil.executeSql("select * from d:/emp8.btx as ee join d:/dep8.btx as dd on dd.DEPT = ee.DEPT", null, ctx);
 //			System.out.println(o);
-//			Object o = AppUtil.executeSql("select * from D:/esProcData/Ա.ctx where 1 = 2", null, ctx, false);
-			//			Object o = AppUtil.executeSql("select top 1 * from D:/esProcData/Ա.ctx", null, ctx, false);
+//			Object o = AppUtil.executeSql("select * from D:/esProcData/员工.ctx where 1 = 2", null, ctx, false);
+			//			Object o = AppUtil.executeSql("select top 1 * from D:/esProcData/员工.ctx", null, ctx, false);
 			if (o != null) {
 				System.out.println(o);
 				if (o instanceof com.scudata.dm.cursor.ICursor) {
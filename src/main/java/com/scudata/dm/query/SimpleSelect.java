@@ -99,8 +99,8 @@ public class SimpleSelect
 	abstract class Node 
 	{
 		abstract public boolean hasGather();
-		abstract public boolean hasField(Boolean isOrder); //group byorder byӾжǷֶΣۺϺһ㺯޲
-		abstract public boolean hasField(String fieldName); //selectӾжǷĳֶΣۺϺһ㺯
+		abstract public boolean hasField(Boolean isOrder); //用于group by和order by子句判断是否包含字段，聚合函数与一般函数无差别
+		abstract public boolean hasField(String fieldName); //用于select子句判断是否包含某字段，聚合函数需区别于一般函数
 		abstract public boolean hasFieldNotGroup();
 		abstract public void optimize();
 		abstract public void collect();
@@ -171,13 +171,13 @@ public class SimpleSelect
 			if(fileObject == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.TableNode, ļΪֵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.TableNode, 文件对象不能为空值");
 			}
 
 			if(type == TableNode.TYPE_ICR)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.TableNode, ļ쳣");
+				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.TableNode, 表文件类型异常");
 			}
 			else
 			{
@@ -240,7 +240,7 @@ public class SimpleSelect
 			if(this.name == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getName, Чıڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getName, 无效的表节点");
 			}
 			return this.name;
 		}
@@ -250,7 +250,7 @@ public class SimpleSelect
 			if(this.alias == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getAlias, Чıڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getAlias, 无效的表节点");
 			}
 			return this.alias;
 		}
@@ -260,7 +260,7 @@ public class SimpleSelect
 			return this.type;
 		}
 		
-		public void setWhere(String whereExp) // רǰ
+		public void setWhere(String whereExp) // 组表专用提前过滤
 		{
 			if(whereExp != null && !whereExp.isEmpty())
 			{
@@ -298,7 +298,7 @@ public class SimpleSelect
 					//return new FileCursor(new FileObject("d:/test/fileAttr.txt"), 1, 1, this.fields, null, null, "t", ctx);
 				}
 				
-				if(this.type == TableNode.TYPE_GTB)	// ļ
+				if(this.type == TableNode.TYPE_GTB)	// 组表文件
 				{
 					ICursor []cursors2 = new ICursor[this.files.size()];
 					metas = new ArrayList<PhyTable>(); 
@@ -313,14 +313,14 @@ public class SimpleSelect
 						catch (Exception e) 
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, ļʧ", e);
+							throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, 打开组表文件失败", e);
 						}
 						
 						PhyTable meta = group.getBaseTable();
 						if(meta == null)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, ûд");
+							throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, 组表中没有创建基表");
 						}
 						metas.add(meta);
 	
@@ -367,11 +367,11 @@ public class SimpleSelect
 					if (this.files.size() == 1) icursor = cursors2[0];
 					else icursor = new ConjxCursor(cursors2);
 				}
-				else if(this.type == TableNode.TYPE_BIN) // ļ
+				else if(this.type == TableNode.TYPE_BIN) // 集文件
 				{
 					ICursor []cursors2 = new ICursor[this.files.size()];
 					for (int z=0; z<this.files.size(); z++) {
-						//Ƿֶζļܲжȡ
+						//非分段二进制文件不能并行读取
 						if(parallelNumber == 1 || SimpleSQL.checkParallel(this.file) == BFileWriter.TYPE_NORMAL)
 						{
 							FileObject foi = this.files.get(z);
@@ -413,7 +413,7 @@ public class SimpleSelect
 					if (this.files.size() == 1) icursor = cursors2[0];
 					else icursor = new ConjxCursor(cursors2);
 				}
-				else if(this.type == TableNode.TYPE_CSV)// CSVļ
+				else if(this.type == TableNode.TYPE_CSV)// CSV文件
 				{
 					ICursor []cursors = new ICursor[this.files.size()];
 					for (int i=0; i<this.files.size(); i++) {
@@ -443,7 +443,7 @@ public class SimpleSelect
 					if (this.files.size() == 1) icursor = cursors[0];
 					else icursor = new ConjxCursor(cursors);
 				}
-				else if(this.type == TableNode.TYPE_TXT)// TXTļ
+				else if(this.type == TableNode.TYPE_TXT)// TXT文件
 				{
 					ICursor []cursors = new ICursor[this.files.size()];
 					for (int i=0; i<this.files.size(); i++) {
@@ -473,7 +473,7 @@ public class SimpleSelect
 					if (this.files.size() == 1) icursor = cursors[0];
 					else icursor = new ConjxCursor(cursors);
 				}
-				else if(this.type == TableNode.TYPE_XLS || this.type == TableNode.TYPE_XLSX)// XLSļ
+				else if(this.type == TableNode.TYPE_XLS || this.type == TableNode.TYPE_XLSX)// XLS文件
 				{
 					ICursor []cursors = new ICursor[this.files.size()];
 					for (int z=0; z<this.files.size(); z++) {
@@ -512,7 +512,7 @@ public class SimpleSelect
 //									if(index == -1)
 //									{
 //										MessageManager mm = ParseMessage.get();
-//										throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, Ҫѯֶʱ");
+//										throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, 要查询的字段名不在临时表中");
 //									}
 //									colExps[i] = new Expression(String.format("#%d", index+1));
 //								}
@@ -522,7 +522,7 @@ public class SimpleSelect
 						catch(IOException e)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, ȡXLSʽıļʧ", e);
+							throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, 读取XLS格式的表文件失败", e);
 						}
 						finally 
 						{
@@ -540,7 +540,7 @@ public class SimpleSelect
 							catch (IOException e) 
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, رXLSļʧ", e);
+								throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, 关闭XLS文件失败", e);
 							}
 						}
 					}
@@ -576,7 +576,7 @@ public class SimpleSelect
 							FileObject foi = this.files.get(i);
 							if (!(seq instanceof Table)) {
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, ȡļʧ");
+								throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, 读取文件数据失败");
 							}
 							Table t2 = (Table)seq;
 							t2 = t2.derive(new String[]{"_file","_ext","_date","_size"}, new Expression[]{new Expression("\""+foi.getFileName()+"\"")
@@ -598,11 +598,11 @@ public class SimpleSelect
 					catch(Exception e) 
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, ȡJSONļʧ", e);
+						throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, 读取JSON文件失败", e);
 					}
 				}
 			}
-			else if(this.cursor != null) //Ӳѯʱ
+			else if(this.cursor != null) //子查询临时表
 			{
 				if(this.cursor instanceof MemoryCursor)
 				{
@@ -630,7 +630,7 @@ public class SimpleSelect
 						if(index == -1)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, Ҫѯֶʱ");
+							throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, 要查询的字段名不在临时表中");
 						}
 						colExps[i] = new Expression(String.format("#%d", index+1));
 					}
@@ -640,10 +640,10 @@ public class SimpleSelect
 			else
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, ڵṹ쳣");
+				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.getCursor, 表节点结构异常");
 			}
 			
-			this.fields = null;//setAccessColumnֻһ
+			this.fields = null;//setAccessColumn只能起一次作用
 			
 			if(isMemory && !(icursor instanceof MemoryCursor))
 			{
@@ -655,22 +655,22 @@ public class SimpleSelect
 		
 		public void setAccessColumn(String[] colNames)
 		{
-			this.fields = colNames;//getCursornull
+			this.fields = colNames;//getCursor后置null
 		}
 		
-		public DataStruct dataStruct() //ԭʼݽṹα
+		public DataStruct dataStruct() //这个是求原始表的数据结构而不是最终游标的
 		{
 			if(this.struct == null)
 			{
-				String[] fields = this.fields;//
-				Expression where = this.where;//
+				String[] fields = this.fields;//备份
+				Expression where = this.where;//备份
 				
-				this.fields = null;//setAccessColumnӦӰdataStruct
-				this.where = null;//ֹǰfetchΪʱȡݽṹ
+				this.fields = null;//setAccessColumn不应该影响dataStruct
+				this.where = null;//防止提前过滤造成fetch为空时获取不到数据结构
 				
 				if(this.file != null || this.meta != null || this.cursor != null)
 				{
-					if(this.type == TableNode.TYPE_GTB)	// ļ
+					if(this.type == TableNode.TYPE_GTB)	// 组表文件
 					{
 						if(this.meta != null)
 						{
@@ -686,14 +686,14 @@ public class SimpleSelect
 							catch (Exception e) 
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":TableNode.dataStruct, ļʧ", e);
+								throw new RQException(mm.getMessage("syntax.error") + ":TableNode.dataStruct, 打开组表文件失败", e);
 							}
 							
 							PhyTable table = group.getBaseTable();
 							if(table == null)
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":TableNode.dataStruct, ûд");
+								throw new RQException(mm.getMessage("syntax.error") + ":TableNode.dataStruct, 组表中没有创建基表");
 							}
 							
 							this.struct = new DataStruct(table.getColNames());
@@ -724,8 +724,8 @@ public class SimpleSelect
 					}
 				}
 				
-				this.fields = fields;//ԭsetAccessColumn
-				this.where = where; //ԭǰ
+				this.fields = fields;//还原setAccessColumn
+				this.where = where; //还原提前过滤
 			}
 			
 			System.out.println("this.struct="+Arrays.toString(this.struct.getFieldNames()));
@@ -738,7 +738,7 @@ public class SimpleSelect
 			if(this.alias == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.isIdentic, Чıڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.isIdentic, 无效的表节点");
 			}
 			
 			if(symbol == null)
@@ -759,14 +759,14 @@ public class SimpleSelect
 			if(icursor == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.toExpression, Чıڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.toExpression, 无效的表节点");
 			}
 			
 			Sequence sequence = icursor.peek(1);
 			if(sequence == null || sequence.length() != 1 || sequence.dataStruct() == null ||sequence.dataStruct().getFieldCount() != 1)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.toExpression, IN/EXISTSӾӲѯܽΪһֵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":TableNode.toExpression, 非IN/EXISTS子句的子查询必须能解析为单一值");
 			}
 			else
 			{
@@ -807,18 +807,18 @@ public class SimpleSelect
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("function.paramError") + ":scanExp, вֵ֧");
+					throw new RQException(mm.getMessage("function.paramError") + ":scanExp, 尚不支持的数据类型");
 				}
 				return value;
 			}
 		}
 
-		public boolean hasGather()  //ᱻselect
+		public boolean hasGather()  //不会被select不考虑
 		{
 			return false;
 		}
 
-		public boolean hasFieldNotGroup()  //ᱻselect
+		public boolean hasFieldNotGroup()  //不会被select不考虑
 		{
 			return false;
 		}
@@ -874,7 +874,7 @@ public class SimpleSelect
 			if(this.name == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.getName, Чֶνڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.getName, 无效的字段节点");
 			}
 			
 			return this.name;
@@ -885,7 +885,7 @@ public class SimpleSelect
 			if(this.original == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.getOriginal, Чֶνڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.getOriginal, 无效的字段节点");
 			}
 			
 			return this.original;
@@ -896,7 +896,7 @@ public class SimpleSelect
 			if(this.name == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.optimize, Чֶνڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.optimize, 无效的字段节点");
 			}
 			
 			String name = this.name.toLowerCase();
@@ -911,7 +911,7 @@ public class SimpleSelect
 			if(this.name == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.toExpression, Чֶνڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.toExpression, 无效的字段节点");
 			}
 			
 			return "'"+this.name+"'";
@@ -927,7 +927,7 @@ public class SimpleSelect
 			if(this.name == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.isIdentic, Чֶνڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.isIdentic, 无效的字段节点");
 			}
 			
 			return this.name.equalsIgnoreCase(fieldName);
@@ -938,7 +938,7 @@ public class SimpleSelect
 			if(this.name == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.hasFieldNotGroup, Чֶνڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":FieldNode.hasFieldNotGroup, 无效的字段节点");
 			}
 			
 			if(groupList == null && groupList.size() == 0)
@@ -994,7 +994,7 @@ public class SimpleSelect
 			if(this.value == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":NormalNode.getValue, Чĳڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":NormalNode.getValue, 无效的常数节点");
 			}
 			
 			return this.value;
@@ -1009,7 +1009,7 @@ public class SimpleSelect
 			if(this.value == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":NormalNode.toExpression, Чĳڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":NormalNode.toExpression, 无效的常数节点");
 			}
 			
 			return this.value;
@@ -1044,7 +1044,7 @@ public class SimpleSelect
 				if(this.value == null)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":NormalNode.hasField, Чĳڵ");
+					throw new RQException(mm.getMessage("syntax.error") + ":NormalNode.hasField, 无效的常数节点");
 				}
 				if(aliasList != null)
 				{
@@ -1081,7 +1081,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.getNodeList, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.getNodeList, 无效的表达式节点");
 			}
 			
 			return this.list;
@@ -1092,7 +1092,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.hasGather, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.hasGather, 无效的表达式节点");
 			}
 			
 			for(int i=0,z=this.list.size();i<z;i++)
@@ -1112,7 +1112,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.hasFieldNotGroup, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.hasFieldNotGroup, 无效的表达式节点");
 			}
 			
 			for(int i=0,z=this.list.size();i<z;i++)
@@ -1132,7 +1132,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.optimize, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.optimize, 无效的表达式节点");
 			}
 			
 			for(int i = 0, z = this.list.size(); i < z; i++)
@@ -1150,7 +1150,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.toExpression, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.toExpression, 无效的表达式节点");
 			}
 			
 			StringBuffer sb = new StringBuffer();
@@ -1159,7 +1159,7 @@ public class SimpleSelect
 				Node node = this.list.get(i);
 				if(node != null)
 				{
-					//coalesceľֲŻ
+					//针对coalesce函数的局部优化
 					boolean optimize = false;
 					if(node instanceof FunctionNode && ((FunctionNode)node).getName().equalsIgnoreCase("coalesce"))
 					{
@@ -1217,7 +1217,7 @@ public class SimpleSelect
 							}
 						}
 					}
-					//Ż
+					//优化结束
 					if(!optimize)
 					{
 						sb.append(node.toExpression());
@@ -1232,7 +1232,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.setFromHaving, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.setFromHaving, 无效的表达式节点");
 			}
 			
 			for(int i = 0, z = this.list.size(); i < z; i++)
@@ -1250,7 +1250,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.setFromWhere, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.setFromWhere, 无效的表达式节点");
 			}
 			
 			for(int i = 0, z = this.list.size(); i < z; i++)
@@ -1268,7 +1268,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.collect, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.collect, 无效的表达式节点");
 			}
 			
 			for(int i = 0, z = this.list.size(); i < z; i++)
@@ -1286,7 +1286,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.hasField, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.hasField, 无效的表达式节点");
 			}
 			
 			for(int i=0,z=this.list.size();i<z;i++)
@@ -1306,7 +1306,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.hasField, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ExpressionNode.hasField, 无效的表达式节点");
 			}
 			
 			for(int i=0,z=this.list.size();i<z;i++)
@@ -1336,7 +1336,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.getNode, ЧŽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.getNode, 无效的括号节点");
 			}
 			
 			return this.node;
@@ -1347,7 +1347,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.hasGather, ЧŽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.hasGather, 无效的括号节点");
 			}
 			
 			return this.node.hasGather();
@@ -1358,7 +1358,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.optimize, ЧŽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.optimize, 无效的括号节点");
 			}
 			
 			this.node.optimize();
@@ -1369,7 +1369,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.toExpression, ЧŽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.toExpression, 无效的括号节点");
 			}
 			
 			StringBuffer sb = new StringBuffer();
@@ -1385,7 +1385,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.hasFieldNotGroup, ЧŽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.hasFieldNotGroup, 无效的括号节点");
 			}
 			
 			return this.node.hasFieldNotGroup();
@@ -1396,7 +1396,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.setFromHaving, ЧŽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.setFromHaving, 无效的括号节点");
 			}
 			
 			this.node.setFromHaving();
@@ -1407,7 +1407,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.setFromWhere, ЧŽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.setFromWhere, 无效的括号节点");
 			}
 			
 			this.node.setFromWhere();
@@ -1418,7 +1418,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.collect, ЧŽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.collect, 无效的括号节点");
 			}
 			
 			this.node.collect();;
@@ -1429,7 +1429,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.hasField, ЧŽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.hasField, 无效的括号节点");
 			}
 			
 			return this.node.hasField(isOrder);
@@ -1440,7 +1440,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.hasField, ЧŽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":ParenNode.hasField, 无效的括号节点");
 			}
 			
 			return this.node.hasField(fieldName);
@@ -1467,7 +1467,7 @@ public class SimpleSelect
 			if(this.name == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.getName, ЧľۺϽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.getName, 无效的聚合节点");
 			}
 			
 			return this.name;
@@ -1478,7 +1478,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.getParamNode, ЧľۺϽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.getParamNode, 无效的聚合节点");
 			}
 			
 			return this.node;
@@ -1491,7 +1491,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.setParamNode, Ϊ");
+				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.setParamNode, 参数不可为空");
 			}
 		}
 
@@ -1500,7 +1500,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.optimize, ЧľۺϽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.optimize, 无效的聚合节点");
 			}
 			
 			this.node.optimize();
@@ -1511,7 +1511,7 @@ public class SimpleSelect
 			if(this.name == null || this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.toExpression, ЧľۺϽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.toExpression, 无效的聚合节点");
 			}
 			
 			StringBuffer sb = new StringBuffer();
@@ -1528,13 +1528,13 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.setFromHaving, ЧľۺϽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.setFromHaving, 无效的聚合节点");
 			}
 			
 			if(this.node.hasGather())
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.hasGather, ۺϺвǶ׾ۺϺ");
+				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.hasGather, 聚合函数参数中不允许嵌套聚合函数");
 			}
 			
 			return true;
@@ -1550,7 +1550,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.setFromHaving, ЧľۺϽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.setFromHaving, 无效的聚合节点");
 			}
 			
 			this.node.setFromHaving();
@@ -1559,7 +1559,7 @@ public class SimpleSelect
 		public void setFromWhere() 
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.setFromWhere, whereӾвӦۺϺ");
+			throw new RQException(mm.getMessage("syntax.error") + ":GatherNode.setFromWhere, where子句中不应包含聚合函数");
 		}
 		
 		public void collect()
@@ -1597,7 +1597,7 @@ public class SimpleSelect
 			if(this.level == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":DimNode.getLevel, Чάڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":DimNode.getLevel, 无效的维节点");
 			}
 			
 			return this.level;
@@ -1640,7 +1640,7 @@ public class SimpleSelect
 			if(this.expression.hasGather())
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":DimNode.hasGather, άڵʽв־ۺϺ");
+				throw new RQException(mm.getMessage("syntax.error") + ":DimNode.hasGather, 维节点表达式中不允许出现聚合函数");
 			}
 			
 			return false;
@@ -1673,7 +1673,7 @@ public class SimpleSelect
 			if(this.level == null || this.field == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":DimNode.isIdentic, Чάڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":DimNode.isIdentic, 无效的维节点");
 			}
 			
 			return this.level.equalsIgnoreCase(levelName) && this.field.equalsIgnoreCase(fieldName);
@@ -1684,7 +1684,7 @@ public class SimpleSelect
 			if(this.level == null || this.field == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":DimNode.hasFieldNotGroup, Чάڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":DimNode.hasFieldNotGroup, 无效的维节点");
 			}
 			
 			if(groupList == null && groupList.size() == 0)
@@ -1749,7 +1749,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":InNode.getNode, ЧInڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":InNode.getNode, 无效的In节点");
 			}
 			
 			return this.node;
@@ -1760,7 +1760,7 @@ public class SimpleSelect
 			if(this.param == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":InNode.getNodeList, ЧInڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":InNode.getNodeList, 无效的In节点");
 			}
 			
 			return this.param;
@@ -1776,7 +1776,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":InNode.optimize, ЧInڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":InNode.optimize, 无效的In节点");
 			}
 			
 			this.node.optimize();
@@ -1788,13 +1788,13 @@ public class SimpleSelect
 			if(this.node == null || this.param == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":InNode.toExpression, ЧInڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":InNode.toExpression, 无效的In节点");
 			}
 			
 			String expression = this.node.toExpression();
-			if(this.param.getNodeList().size() == 1 && this.param.getNodeList().get(0) instanceof TableNode)//ӲѯʽInӾ
+			if(this.param.getNodeList().size() == 1 && this.param.getNodeList().get(0) instanceof TableNode)//子查询式In子句
 			{
-				//ӲѯĬ漰ڴ滯
+				//子查询默认涉及表都可以内存化
 				TableNode tbn = (TableNode) this.param.getNodeList().get(0);
 				String[] names = new String[]{tbn.dataStruct().getFieldName(0)};
 				tbn.setAccessColumn(names);
@@ -1822,7 +1822,7 @@ public class SimpleSelect
 					if(!(tab.get(1) instanceof BaseRecord) || tab.dataStruct() == null || tab.dataStruct().getFieldCount() != 1)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":toExpression, INӲѯ쳣");
+						throw new RQException(mm.getMessage("syntax.error") + ":toExpression, IN中子查询结果异常");
 					}
 					
 					StringBuffer sb = new StringBuffer();
@@ -1865,7 +1865,7 @@ public class SimpleSelect
 					}
 					else
 					{
-						seq = seq.sort("o");//׼öַ
+						seq = seq.sort("o");//准备用二分法查找所以先排序
 						sb.append("(");
 						sb.append("[");
 						for(int i = 1; i <= size; i++)
@@ -1892,7 +1892,7 @@ public class SimpleSelect
 						sb.append(")");
 					}
 					
-					//coalesceľֲŻ
+					//针对coalesce函数的局部优化
 					String expStr = sb.toString();
 					if(this.node.getNodeList().size() == 1  
 					&& this.node.getNodeList().get(0) instanceof FunctionNode
@@ -1918,22 +1918,22 @@ public class SimpleSelect
 							}
 						}
 					}
-					//Ż
+					//优化结束
 					expStr = expStr.replace("$?", expression);
 					return expStr;
 				}
 			}
-			else //ͨʽINӾ䣬ѯֶεӲѯINӾ
+			else //普通序列式的IN子句，或含主查询字段的子查询的IN子句
 			{
 				String paramStr = this.param.toExpression().trim();
 				
-				//joinӲѯֶΪǺӵ
-				//ѡֶιʲҪȥ
+				//非join传入的子查询字段因为是后添加的
+				//不算作选出字段故不需要去除单引号
 				if(subQueryOfInMap.containsValue(paramStr))
 				{
-					//ַʺϣΪҪֵ
-					//ѯֵֵֶͬΧҲ仯
-					//ÿݶҪ˷ʱ
+					//二分法搜索不再适合，因为需要对搜索值排序
+					//而随主查询字段值不同，搜素值范围也会变化
+					//故每行数据都需要排序再搜索，更加浪费时间
 					StringBuffer sb = new StringBuffer();
 					if(this.not)
 					{
@@ -1943,16 +1943,16 @@ public class SimpleSelect
 					sb.append(".contain(");
 					sb.append(expression);
 					sb.append(")");
-					//coalesceľֲŻҲʹ
-					//ΪѯֵֶͬطΧҲ仯
-					//ʲȷcoalesceڶǷ񱻰
+					//针对coalesce函数的局部优化这里也不能使用
+					//因为随主查询字段值不同搜素范围也会变化
+					//故不能确定coalesce第二个参数是否被包含
 					String expStr = sb.toString();
 					return expStr;
 				}
 				else if(paramStr.startsWith("(") && paramStr.endsWith(")"))
 				{
-					//ʱΪӲѯ̶һҪڴȥ,
-					//ͬʱҲΪѯֶεӲѯıʶı־
+					//解析时为方便兼容子查询流程多加了一个括号需要在此去除,
+					//同时这也作为区别含主查询字段的子查询的标识符的标志
 					paramStr = paramStr.substring(1, paramStr.length()-1);
 					
 					StringBuffer sb = new StringBuffer();
@@ -1999,7 +1999,7 @@ public class SimpleSelect
 							valueMap.put(obj, value);
 							seq.add(obj);
 						}
-						seq.sort("o");//׼öַ
+						seq.sort("o");//准备用二分法查找所以先排序
 						StringBuffer tmp = new StringBuffer();
 						for(int i = 1; i <= seq.length(); i++)
 						{
@@ -2027,7 +2027,7 @@ public class SimpleSelect
 						sb.append("null");
 						sb.append(")");
 					}
-					//coalesceľֲŻ
+					//针对coalesce函数的局部优化
 					String expStr = sb.toString();
 					if(this.node.getNodeList().size() == 1  
 					&& this.node.getNodeList().get(0) instanceof FunctionNode
@@ -2053,19 +2053,19 @@ public class SimpleSelect
 							}
 						}
 					}
-					//Ż
+					//优化结束
 					expStr = expStr.replace("$?", expression);
 					return expStr;
 				}
 				else
 				{
-					//joinscanExpwhereʱ˴
-					//ӲѯֶΪѾѡֶ
+					//当join调用scanExp解析where时会进入此处
+					//传入的子查询字段因为已经存在所以算作选出字段
 					if(paramStr.startsWith("'$") && paramStr.endsWith("'"))
 					{
-						//ַʺϣΪҪֵ
-						//ѯֵֵֶͬΧҲ仯
-						//ÿݶҪ˷ʱ
+						//二分法搜索不再适合，因为需要对搜索值排序
+						//而随主查询字段值不同，搜素值范围也会变化
+						//故每行数据都需要排序再搜索，更加浪费时间
 						StringBuffer sb = new StringBuffer();
 						if(this.not)
 						{
@@ -2075,27 +2075,27 @@ public class SimpleSelect
 						sb.append(".contain(");
 						sb.append(expression);
 						sb.append(")");
-						//coalesceľֲŻҲʹ
-						//ΪѯֵֶͬطΧҲ仯
-						//ʲȷcoalesceڶǷ񱻰
+						//针对coalesce函数的局部优化这里也不能使用
+						//因为随主查询字段值不同搜素范围也会变化
+						//故不能确定coalesce第二个参数是否被包含
 						String expStr = sb.toString();
 						return expStr;
 					}
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":InNode.toExpression, ޷ʶINӾ");
+						throw new RQException(mm.getMessage("syntax.error") + ":InNode.toExpression, 无法识别的IN子句");
 					}
 				}
 			}
 		}
 
-		public boolean hasGather() //ᱻselect
+		public boolean hasGather() //不会被select不考虑
 		{
 			return false;
 		}
 		
-		public boolean hasFieldNotGroup()  //ᱻselect
+		public boolean hasFieldNotGroup()  //不会被select不考虑
 		{
 			return false;
 		}
@@ -2115,7 +2115,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":InNode.collect, ЧInڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":InNode.collect, 无效的In节点");
 			}
 			
 			this.node.collect();
@@ -2124,13 +2124,13 @@ public class SimpleSelect
 		public boolean hasField(Boolean isOrder) 
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":InNode.hasField, InӾ䲻ڷֶ");
+			throw new RQException(mm.getMessage("syntax.error") + ":InNode.hasField, In子句不可用于分组字段");
 		}
 		
 		public boolean hasField(String fieldName)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":InNode.hasField, InӾ䲻ڲѯֶ");
+			throw new RQException(mm.getMessage("syntax.error") + ":InNode.hasField, In子句不可用于查询字段");
 		}
 	}
 	
@@ -2159,7 +2159,7 @@ public class SimpleSelect
 			if(this.token == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.getPattern, ЧLikeڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.getPattern, 无效的Like节点");
 			}
 			return this.token.getString();
 		}
@@ -2174,7 +2174,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.optimize, ЧLikeڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.optimize, 无效的Like节点");
 			}
 			
 			this.node.optimize();
@@ -2185,7 +2185,7 @@ public class SimpleSelect
 			if(this.node == null || this.token == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.toExpression, ЧLikeڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.toExpression, 无效的Like节点");
 			}
 			
 			String pattern = "\""+this.token.toString()+"\"";
@@ -2202,7 +2202,7 @@ public class SimpleSelect
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ռλ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 参数占位符解析错误");
 				}
 				
 				pattern = paramNode.toExpression();
@@ -2226,12 +2226,12 @@ public class SimpleSelect
 			return "like@c(" + this.node.toExpression() +"," + pattern + ")";
 		}
 
-		public boolean hasGather()  //ᱻselect
+		public boolean hasGather()  //不会被select不考虑
 		{
 			return false;
 		}
 		
-		public boolean hasFieldNotGroup()  //ᱻselect
+		public boolean hasFieldNotGroup()  //不会被select不考虑
 		{
 			return false;
 		}
@@ -2251,7 +2251,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.collect, ЧLikeڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.collect, 无效的Like节点");
 			}
 			
 			this.node.collect();
@@ -2260,13 +2260,13 @@ public class SimpleSelect
 		public boolean hasField(Boolean isOrder) 
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.hasField, LikeӾ䲻ڷֶ");
+			throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.hasField, Like子句不可用于分组字段");
 		}
 		
 		public boolean hasField(String fieldName)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.hasField, LikeӾ䲻ڲѯֶ");
+			throw new RQException(mm.getMessage("syntax.error") + ":LikeNode.hasField, Like子句不可用于查询字段");
 		}
 	}
 	
@@ -2284,7 +2284,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.getNodeList, ЧCaseڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.getNodeList, 无效的Case节点");
 			}
 			return this.list;
 		}
@@ -2294,7 +2294,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.optimize, ЧCaseڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.optimize, 无效的Case节点");
 			}
 			
 			for(int i = 0, z = this.list.size(); i < z; i++)
@@ -2333,7 +2333,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.hasGather, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.hasGather, 无效的表达式节点");
 			}
 			
 			for(int i=0,z=this.list.size();i<z;i++)
@@ -2353,7 +2353,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.hasFieldNotGroup, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.hasFieldNotGroup, 无效的表达式节点");
 			}
 			
 			for(int i=0,z=this.list.size();i<z;i++)
@@ -2373,7 +2373,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.setFromHaving, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.setFromHaving, 无效的表达式节点");
 			}
 			
 			for(int i = 0, z = this.list.size(); i < z; i++)
@@ -2391,7 +2391,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.setFromWhere, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.setFromWhere, 无效的表达式节点");
 			}
 			
 			for(int i = 0, z = this.list.size(); i < z; i++)
@@ -2409,7 +2409,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.collect, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.collect, 无效的表达式节点");
 			}
 			
 			for(int i = 0, z = this.list.size(); i < z; i++)
@@ -2427,7 +2427,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.hasField, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.hasField, 无效的表达式节点");
 			}
 			
 			for(int i=0,z=this.list.size();i<z;i++)
@@ -2447,7 +2447,7 @@ public class SimpleSelect
 			if(this.list == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.hasField, Чıʽڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":CaseNode.hasField, 无效的表达式节点");
 			}
 			
 			for(int i=0,z=this.list.size();i<z;i++)
@@ -2505,7 +2505,7 @@ public class SimpleSelect
 			if(this.node == null || this.floor == null || this.ceil == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":BetweenNode.optimize, ЧBetweenڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":BetweenNode.optimize, 无效的Between节点");
 			}
 			
 			this.node.optimize();
@@ -2518,7 +2518,7 @@ public class SimpleSelect
 			if(this.node == null || this.floor == null || this.ceil == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":BetweenNode.toExpression, ЧBetweenڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":BetweenNode.toExpression, 无效的Between节点");
 			}
 			
 			String x = this.node.toExpression();
@@ -2536,12 +2536,12 @@ public class SimpleSelect
 			return exp;
 		}
 		
-		public boolean hasGather() //ᱻselectÿ
+		public boolean hasGather() //不会被select不用考虑
 		{
 			return false;
 		}
 		
-		public boolean hasFieldNotGroup()  //ᱻselectÿ
+		public boolean hasFieldNotGroup()  //不会被select不用考虑
 		{
 			return false;
 		}
@@ -2561,7 +2561,7 @@ public class SimpleSelect
 			if(this.node == null || this.floor == null || this.ceil == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":BetweenNode.collect, ЧBetweenڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":BetweenNode.collect, 无效的Between节点");
 			}
 			
 			this.node.collect();
@@ -2572,13 +2572,13 @@ public class SimpleSelect
 		public boolean hasField(Boolean isOrder) 
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":BetweenNode.hasField, BetweenӾ䲻ڷֶ");
+			throw new RQException(mm.getMessage("syntax.error") + ":BetweenNode.hasField, Between子句不可用于分组字段");
 		}
 		
 		public boolean hasField(String fieldName)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":BetweenNode.hasField, BetweenӾ䲻ڲѯֶ");
+			throw new RQException(mm.getMessage("syntax.error") + ":BetweenNode.hasField, Between子句不可用于查询字段");
 		}
 	}
 	
@@ -2600,12 +2600,12 @@ public class SimpleSelect
 			this.index = paramIndex - 1;
 		}
 		
-		public boolean hasGather()  //ᱻselect
+		public boolean hasGather()  //不会被select不考虑
 		{
 			return false;
 		}
 
-		public boolean hasFieldNotGroup()  //ᱻselect
+		public boolean hasFieldNotGroup()  //不会被select不考虑
 		{
 			return false;
 		}
@@ -2636,13 +2636,13 @@ public class SimpleSelect
 		public boolean hasField(Boolean isOrder) 
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":ParamNode.hasField, '?'ռλڷֶ");
+			throw new RQException(mm.getMessage("syntax.error") + ":ParamNode.hasField, '?'占位符不可用于分组字段");
 		}
 		
 		public boolean hasField(String fieldName)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":ParamNode.hasField, '?'ռλڲѯֶ");
+			throw new RQException(mm.getMessage("syntax.error") + ":ParamNode.hasField, '?'占位符不可用于查询字段");
 		}
 	}
 	
@@ -2665,7 +2665,7 @@ public class SimpleSelect
 			if(this.name == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.getName, Чڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.getName, 无效的其他函数节点");
 			}
 			
 			return this.name;
@@ -2676,7 +2676,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.getParamNode, Чڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.getParamNode, 无效的其他函数节点");
 			}
 			
 			return this.node;
@@ -2689,7 +2689,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.setParamNode, Ϊ");
+				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.setParamNode, 参数不可为空");
 			}
 		}
 
@@ -2698,7 +2698,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.optimize, Чڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.optimize, 无效的其他函数节点");
 			}
 			
 			this.node.optimize();
@@ -2709,7 +2709,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.hasGather, Чڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.hasGather, 无效的其他函数节点");
 			}
 			
 			return this.node.hasGather();
@@ -2720,7 +2720,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.hasFieldNotGroup, Чڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.hasFieldNotGroup, 无效的其他函数节点");
 			}
 			
 			return this.node.hasFieldNotGroup();
@@ -2731,7 +2731,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.setFromHaving, Чڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.setFromHaving, 无效的其他函数节点");
 			}
 			
 			this.node.setFromHaving();
@@ -2742,7 +2742,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.setFromWhere, Чڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.setFromWhere, 无效的其他函数节点");
 			}
 			
 			this.node.setFromWhere();
@@ -2753,7 +2753,7 @@ public class SimpleSelect
 			if(this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.collect, Чڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.collect, 无效的其他函数节点");
 			}
 			
 			this.node.collect();;
@@ -2774,7 +2774,7 @@ public class SimpleSelect
 			if(this.name == null || this.node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.toExpression, Чڵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":OtherNode.toExpression, 无效的其他函数节点");
 			}
 			
 			String[] paramsStr = getParams(this.node.toExpression());
@@ -2791,10 +2791,10 @@ public class SimpleSelect
 	
 	class SubQueryCursor extends SyncCursor
 	{
-		public static final int Exist_Type = 0; //Ҫֵ֤ڼɣexists
-		public static final int Select_Type = 1; //ҪȷֵֵΨһselect
-		public static final int In_Type = 2; //ҪȷֵֵɲΨһ, in
-		public static final int Where_Type = 3; //ҪȷֵֵΨһ, where
+		public static final int Exist_Type = 0; //不需要求出值证明存在即可，exists
+		public static final int Select_Type = 1; //需要求出确切值且值必须唯一，select
+		public static final int In_Type = 2; //需要求出确切值且值可不唯一, in
+		public static final int Where_Type = 3; //需要求出确切值且值必须唯一, where
 		
 		private int type = -1;
 		private ICellSet ics = null;
@@ -2812,7 +2812,7 @@ public class SimpleSelect
 			if(this.type != Exist_Type && this.type != Select_Type && this.type != In_Type && this.type != Where_Type)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, Ӳѯαʼ");
+				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, 子查询游标初始化参数错误");
 			}
 			this.ics = ics;
 			this.paramList = paramList;
@@ -2820,19 +2820,19 @@ public class SimpleSelect
 			if(this.subQueryListListList == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, Ӳѯαʼ");
+				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, 子查询游标初始化参数错误");
 			}
 			this.fieldNameListList = fieldNameListList;
 			if(this.fieldNameListList == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, Ӳѯαʼ");
+				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, 子查询游标初始化参数错误");
 			}
 			this.colNameList = colNameList;
 			if(this.colNameList == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, Ӳѯαʼ");
+				throw new RQException(mm.getMessage("function.paramError") + ":SubQueryCursor, 子查询游标初始化参数错误");
 			}
 			this.ctx = ctx;
 			
@@ -2866,7 +2866,7 @@ public class SimpleSelect
 						if(!(obj instanceof BaseRecord))
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, ѯбɼ¼");
+							throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, 查询结果序列必须由记录组成");
 						}
 						BaseRecord rec = (BaseRecord) obj;
 						
@@ -2903,7 +2903,7 @@ public class SimpleSelect
 								if(sq.length() != 1 || !(sq.get(1) instanceof BaseRecord) || sq.dataStruct() == null || sq.dataStruct().getFieldCount() != 1)
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, SELECT/WHEREӾӲѯ쳣");
+									throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, SELECT/WHERE子句中子查询结果异常");
 								}
 								val = ((BaseRecord)sq.get(1)).getFieldValue(0);
 							}
@@ -2915,7 +2915,7 @@ public class SimpleSelect
 									if(sq.length() == 0 ||!(sq.get(1) instanceof BaseRecord) || sq.dataStruct() == null || sq.dataStruct().getFieldCount() != 1)
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, INӾӲѯ쳣");
+										throw new RQException(mm.getMessage("syntax.error") + ":SubQueryCursor.get, IN子句中子查询结果异常");
 									}
 									v.add(((BaseRecord)sq.get(p)).getFieldValue(0));
 								}
@@ -3013,7 +3013,7 @@ public class SimpleSelect
 		if(levelName == null || levelName.trim().isEmpty() || levelFunction == null || levelFunction.trim().isEmpty())
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("function.paramError") + ":setLevelFunction, Ϊֵ");
+			throw new RQException(mm.getMessage("function.paramError") + ":setLevelFunction, 参数不能为空值");
 		}
 		levelName = levelName.toLowerCase();
 		levelFunction = levelFunction.toLowerCase();
@@ -3037,7 +3037,7 @@ public class SimpleSelect
 		if(levelName == null || levelName.trim().isEmpty())
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("function.paramError") + ":getLevelFunction, Ϊֵ");
+			throw new RQException(mm.getMessage("function.paramError") + ":getLevelFunction, 参数不能为空值");
 		}
 		String function = this.levelMap.get(levelName.toLowerCase());
 		if(function == null)
@@ -3124,7 +3124,7 @@ public class SimpleSelect
 		else
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("function.paramError") + ":setSQLParameters, вֵ֧Ĳ");
+			throw new RQException(mm.getMessage("function.paramError") + ":setSQLParameters, 尚不支持的参数类型");
 		}
 	}
 	
@@ -3217,13 +3217,13 @@ public class SimpleSelect
 		else
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, SQLSELECTؼֿͷ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, SQL语句必须以SELECT关键字开头");
 		}
 		
 		if (start >= next) 
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, ʼλóλ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanSelect, 起始位置超出结束位置");
 		}
 		
 		start = scanQuantifies(tokens, start, next);
@@ -3265,7 +3265,7 @@ public class SimpleSelect
 					break;
 				}
 			}
-			else if (token.getType() == Tokenizer.LPAREN) // ()
+			else if (token.getType() == Tokenizer.LPAREN) // 跳过()
 			{
 				i = Tokenizer.scanParen(tokens, i, next);
 			}
@@ -3321,7 +3321,7 @@ public class SimpleSelect
 				if (c >= next) 
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanQuantifies, ʼλóλ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanQuantifies, 起始位置超出结束位置");
 				}
 				
 				this.hasDistinct = true;
@@ -3343,14 +3343,14 @@ public class SimpleSelect
 				catch(NumberFormatException nfe)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanQuantifies, TOPؼֺӷǸ", nfe);
+					throw new RQException(mm.getMessage("syntax.error") + ":scanQuantifies, TOP关键字后面必须接非负整数", nfe);
 				}
 				
 				c++;
 				if (c >= next) 
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanQuantifies, ʼλóλ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanQuantifies, 起始位置超出结束位置");
 				}
 			}
 			
@@ -3371,7 +3371,7 @@ public class SimpleSelect
 			if (c >= next) 
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanLimit, ʼλóλ");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanLimit, 起始位置超出结束位置");
 			}
 			try
 			{
@@ -3391,7 +3391,7 @@ public class SimpleSelect
 			catch(NumberFormatException nfe)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanLimit, LimitؼֺӷǸ", nfe);
+				throw new RQException(mm.getMessage("syntax.error") + ":scanLimit, Limit关键字后面必须接非负整数", nfe);
 			}
 		}
 	}
@@ -3405,7 +3405,7 @@ public class SimpleSelect
 			if (c >= next) 
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanOffset, ʼλóλ");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanOffset, 起始位置超出结束位置");
 			}
 			try
 			{
@@ -3418,7 +3418,7 @@ public class SimpleSelect
 			catch(NumberFormatException nfe)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanOffset, OffsetؼֺӷǸ", nfe);
+				throw new RQException(mm.getMessage("syntax.error") + ":scanOffset, Offset关键字后面必须接非负整数", nfe);
 			}
 		}
 	}
@@ -3436,7 +3436,7 @@ public class SimpleSelect
 			if (start >= tableNext) 
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ʼλóλ");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 起始位置超出结束位置");
 			}
 
 			if(tokens[start].getString().equals("{"))
@@ -3445,7 +3445,7 @@ public class SimpleSelect
 				if(pos == tableNext)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ʽʼλóλ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 集算器表达式起始位置超出结束位置");
 				}
 				
 				int end = Tokenizer.scanBrace(tokens, start, tableNext);
@@ -3470,7 +3470,7 @@ public class SimpleSelect
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ʽĽβ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 集算器表达式的结尾处有误");
 				}
 				
 				if(aliasName == null)
@@ -3495,7 +3495,7 @@ public class SimpleSelect
 				catch(Exception ex)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 쳣ı(עΪؼֻֿͷ):"+expStr);
+					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 异常的表名(注意表名不能为关键字或以数字开头):"+expStr);
 				}
 
 				if(obj instanceof ICursor)
@@ -3526,7 +3526,7 @@ public class SimpleSelect
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ֵ֧ı");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 不支持的表变量类型");
 				}
 			}
 			else if(tokens[start].getType() == Tokenizer.LPAREN)
@@ -3535,7 +3535,7 @@ public class SimpleSelect
 				if(pos == tableNext)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ʱӾʼλóλ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 临时表子句起始位置超出结束位置");
 				}
 				
 				int end = Tokenizer.scanParen(tokens, start, tableNext);
@@ -3555,7 +3555,7 @@ public class SimpleSelect
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ʱӾĽβ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 临时表子句的结尾处有误");
 				}
 				
 				if(aliasName == null)
@@ -3568,7 +3568,7 @@ public class SimpleSelect
 					if(pos + 1 != end)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ʱռλʽ");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 临时表占位符格式错误");
 					}
 					if(this.ds != null)
 					{
@@ -3666,7 +3666,7 @@ public class SimpleSelect
 				}
 				if (fs == null || fs.length == 0) {
 					MessageManager mm = ParseMessage.get();
-					throw new RQException("not found data file["+tableName+"]["+Env.getMainPath()+"/"+tableName+"]");
+					throw new RQException("not found data file["+tableName+"]、["+Env.getMainPath()+"/"+tableName+"]");
 				}
 				//System.out.println("fs.length " + fs.length);
 				FileObject fileObject = new FileObject(fs[0].getAbsolutePath(), null, "s", this.ctx);
@@ -3675,7 +3675,7 @@ public class SimpleSelect
 				if(!fileObject.isExists())
 				{
 					String password = null;
-					int index = tableName.lastIndexOf(":"); //룬ȥ
+					int index = tableName.lastIndexOf(":"); //可能有密码，尝试去除
 					if(index != -1)
 					{
 						String newName = tableName.substring(0, index).trim();
@@ -3713,7 +3713,7 @@ public class SimpleSelect
 						if(!password.startsWith("'") || !password.endsWith("'"))
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ļʹõ");
+							throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 文件密码必须使用单引号括起来");
 						}
 						this.password = password.substring(1, password.length() - 1);
 						tableName = fileObject.getFileName();
@@ -3786,7 +3786,7 @@ public class SimpleSelect
 					catch(Exception ex)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 쳣ı(עΪؼֻֿͷ):"+paramStr);
+						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 异常的表名(注意表名不能为关键字或以数字开头):"+paramStr);
 					}
 					
 					if(obj instanceof ICursor)
@@ -3817,10 +3817,10 @@ public class SimpleSelect
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ֵ֧ı");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 不支持的表变量类型");
 					}
 				}
-				else if(tokens[start].getType() == Tokenizer.IDENT) // ԽΪֱдʽ׳쳣
+				else if(tokens[start].getType() == Tokenizer.IDENT) // 尝试解析为直接写变量名的形式，否则抛出异常
 				{
 					pos = start + 1;
 					if(pos == tableNext)
@@ -3841,7 +3841,7 @@ public class SimpleSelect
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 쳣ı(עΪؼֻֿͷ):"+tokens[start].getOriginString());
+						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 异常的表名(注意表名不能为关键字或以数字开头):"+tokens[start].getOriginString());
 					}
 					
 					if(aliasName == null)
@@ -3857,7 +3857,7 @@ public class SimpleSelect
 					catch(Exception ex)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 쳣ı(עΪؼֻֿͷ):"+tableName);
+						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 异常的表名(注意表名不能为关键字或以数字开头):"+tableName);
 					}
 					
 					if(obj instanceof ICursor)
@@ -3888,13 +3888,13 @@ public class SimpleSelect
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, ֵ֧ı");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 不支持的表变量类型");
 					}
 				}
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 쳣ı(עΪؼֻֿͷ):"+tokens[start].getOriginString());
+					throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 异常的表名(注意表名不能为关键字或以数字开头):"+tokens[start].getOriginString());
 				}
 				
 				if (this.tableNode != null) this.tableNode.setFiles(objs);
@@ -3919,7 +3919,7 @@ public class SimpleSelect
 			MessageManager mm = ParseMessage.get();
 			String n = ":";
 			try {n += tokens[start].getString();}catch(Exception e){}
-			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 쳣ı(עΪؼֻֿͷ):"+n);
+			throw new RQException(mm.getMessage("syntax.error") + ":scanFrom, 异常的表名(注意表名不能为关键字或以数字开头):"+n);
 		}
 	}
 	
@@ -3941,7 +3941,7 @@ public class SimpleSelect
 				if (start >= next) 
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanColumns, ʼλóλ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanColumns, 起始位置超出结束位置");
 				}
 			}
 		}
@@ -3952,7 +3952,7 @@ public class SimpleSelect
 		if (start >= next) 
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, ʼλóλ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, 起始位置超出结束位置");
 		}
 		
 		if (start + 1 == next && tokens[start].equals("*")) 
@@ -4043,7 +4043,7 @@ public class SimpleSelect
 					if(end + 2 == next)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, Asؼֺȱб");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, As关键字后面缺少列别名");
 					}
 					begin = end + 2;
 				}
@@ -4106,7 +4106,7 @@ public class SimpleSelect
 					if(seq == null || seq.length() != 1 || seq.dataStruct() == null || seq.dataStruct().getFieldCount() != 1)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, SELECTӾзسֵӲѯֻΪе");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, 在SELECT子句中返回常数值的子查询只能为单行单列");
 					}
 					Object val = seq.get(1);
 					if(val instanceof BaseRecord)
@@ -4120,7 +4120,7 @@ public class SimpleSelect
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, سֵӲѯֻΪ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, 返回常数值的子查询只能为单列");
 				}
 			}
 			
@@ -4145,7 +4145,7 @@ public class SimpleSelect
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, бӦΪַֻ");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, 新起列别名不应为纯数字或特殊字符");
 					}
 				} 
 				else if (!prevToken.canHaveRightExp()) 
@@ -4158,7 +4158,7 @@ public class SimpleSelect
 					else if (alias.getType() != Tokenizer.KEYWORD && alias.getType() != Tokenizer.RPAREN && alias.getType() != Tokenizer.LEVELMARK && alias.getType() != Tokenizer.TABLEMARK)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, ĳѯеıʽ﷨");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, 某个待查询列的表达式语法错误");
 					}
 				}
 			}
@@ -4167,7 +4167,7 @@ public class SimpleSelect
 			if(expNode.getNodeList() == null || expNode.getNodeList().size() == 0)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, ĳѯеıʽΪֵ");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanColumn, 某个待查询列的表达式为空值");
 			}
 			
 			if(aliasName != null)
@@ -4201,7 +4201,7 @@ public class SimpleSelect
 	
 	public static String scanExp(Token []tokens, List<Object> paramList)
 	{
-		SimpleSelect sdql = new SimpleSelect(null, null);//ڽȡα꣬ҪĶ
+		SimpleSelect sdql = new SimpleSelect(null, null);//仅用于解析而不获取游标，不需要上下文对象
 		sdql.setSQLParameters(paramList);
 		SimpleSelect.ExpressionNode expNode = sdql.scanExp(tokens, 0, tokens.length);
 		expNode.setFromWhere();
@@ -4250,12 +4250,12 @@ public class SimpleSelect
 					if (pos == next) 
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ʼλóλ");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 起始位置超出结束位置");
 					}
 					else if (pos + 1 < next && tokens[pos + 1].getType() == Tokenizer.LPAREN) // T.sum(exp)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ʽ֧д");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 函数表达式不支持这种写法");
 					}
 					else // T.F
 					{
@@ -4264,7 +4264,7 @@ public class SimpleSelect
 						if (tokens[begin + 2].getType() != Tokenizer.IDENT) 
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ĳѯбӷֶ");
+							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 某待查询列表名后接非字段类型");
 						}
 						
 						int fieldNext = begin + 3;
@@ -4444,14 +4444,14 @@ public class SimpleSelect
 										if(isCountIf || !functionName.equalsIgnoreCase("COUNT"))
 										{
 											MessageManager mm = ParseMessage.get();
-											throw new RQException(mm.getMessage("syntax.error") + ":scanExp, COUNTۺϺĲ֧DISTINCT");
+											throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 非COUNT聚合函数的参数不支持DISTINCT");
 										}
 										
 										String fieldName = paramNode.toExpression();
 										if(fieldName == null)
 										{
 											MessageManager mm = ParseMessage.get();
-											throw new RQException(mm.getMessage("syntax.error") + ":scanExp, COUNT(DISTINCT)Ĳʽ");
+											throw new RQException(mm.getMessage("syntax.error") + ":scanExp, COUNT(DISTINCT)的参数格式错误");
 										}
 										
 										functionName = "icount";
@@ -4476,7 +4476,7 @@ public class SimpleSelect
 									else
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ĳۺϺĲ");
+										throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 某聚合函数的参数个数错误");
 									}
 								}
 							}
@@ -4490,7 +4490,7 @@ public class SimpleSelect
 						if (size == 0) 
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("function.paramError") + ":scanExp, ۺϺĲڵΪ");
+							throw new RQException(mm.getMessage("function.paramError") + ":scanExp, 聚合函数的参数节点数不能为零");
 						}
 						
 						expList.add(new GatherNode(functionName, paramNode));
@@ -4591,7 +4591,7 @@ public class SimpleSelect
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ֶ˷Ƿַ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 字段名后接了非法的字符");
 				}
 			} 
 			else if (type == Tokenizer.LPAREN) 
@@ -4642,7 +4642,7 @@ public class SimpleSelect
 								String uuid = UUID.randomUUID().toString().replace("-", "_");
 								
 								ArrayList<Node> list = new ArrayList<Node>();
-								list.add(new NormalNode("$" + uuid)); //joinӲѯֶΪǺӵĲѡֶ
+								list.add(new NormalNode("$" + uuid)); //非join传入的子查询字段因为是后添加的不算作选出字段
 								ExpressionNode expNode = new ExpressionNode(list);
 								expList.add(expNode);
 								
@@ -4657,7 +4657,7 @@ public class SimpleSelect
 								String dollar_uuid = this.subQueryOfInMap.get(checkList.toString());
 								
 								ArrayList<Node> list = new ArrayList<Node>();
-								list.add(new NormalNode(dollar_uuid));//joinӲѯֶΪǺӵĲѡֶ
+								list.add(new NormalNode(dollar_uuid));//非join传入的子查询字段因为是后添加的不算作选出字段
 								ExpressionNode expNode = new ExpressionNode(list);
 								expList.add(expNode);
 							}
@@ -4669,7 +4669,7 @@ public class SimpleSelect
 								String uuid = UUID.randomUUID().toString().replace("-", "_");
 								
 								ArrayList<Node> list = new ArrayList<Node>();
-								list.add(new NormalNode("$" + uuid));//joinӲѯֶΪǺӵĲѡֶ
+								list.add(new NormalNode("$" + uuid));//非join传入的子查询字段因为是后添加的不算作选出字段
 								ExpressionNode expNode = new ExpressionNode(list);
 								expList.add(expNode);
 								
@@ -4684,7 +4684,7 @@ public class SimpleSelect
 								String dollar_uuid = this.subQueryOfWhereMap.get(checkList.toString());
 								
 								ArrayList<Node> list = new ArrayList<Node>();
-								list.add(new NormalNode(dollar_uuid));//joinӲѯֶΪǺӵĲѡֶ
+								list.add(new NormalNode(dollar_uuid));//非join传入的子查询字段因为是后添加的不算作选出字段
 								ExpressionNode expNode = new ExpressionNode(list);
 								expList.add(expNode);
 							}
@@ -4703,13 +4703,13 @@ public class SimpleSelect
 						else
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, سֵӲѯֻΪ");
+							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 返回常数值的子查询只能为单列");
 						}
 					}
 				}
 				else
 				{
-					expList.add(new ParenNode(scanExp(subQueryTokens, 0, subQueryTokens.length)));//ʵϲӲѯ
+					expList.add(new ParenNode(scanExp(subQueryTokens, 0, subQueryTokens.length)));//实际上不是子查询
 				}
 				
 				i = end;
@@ -4745,7 +4745,7 @@ public class SimpleSelect
 				if (pos == next || tokens[pos].getType() != Tokenizer.LPAREN && tokens[pos].getType() != Tokenizer.IDENT) 
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, INӾӾĸʽ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, IN子句从句的格式错误");
 				}
 				
 				ArrayList<Node> tempList = new ArrayList<Node>();
@@ -4768,7 +4768,7 @@ public class SimpleSelect
 				if(tokens[pos].getType() == Tokenizer.LPAREN)
 				{
 					int end = Tokenizer.scanParen(tokens, pos, next);
-					ExpressionNode paramNode = scanExp(tokens, pos, end + 1);//ԽӲѯ
+					ExpressionNode paramNode = scanExp(tokens, pos, end + 1);//必须包含左右括号以进入子查询解析
 					expList.add(new InNode(expNode, paramNode, hasNot));
 					i = end;
 				}
@@ -4781,7 +4781,7 @@ public class SimpleSelect
 					{
 						theFieldName = theFieldName.substring(1, theFieldName.length() - 1);
 					}
-					paramList.add(new FieldNode(theFieldName));//joinӲѯֶΪѾѡֶ
+					paramList.add(new FieldNode(theFieldName));//join传入的子查询字段因为已经存在所以算作选出字段
 					ExpressionNode paramNode = new ExpressionNode(paramList);
 					expList.add(new InNode(expNode, paramNode, hasNot));
 					i = pos;
@@ -4798,7 +4798,7 @@ public class SimpleSelect
 				if (pos == next) 
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, LikeӾĸʽ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Like子句的格式错误");
 				}
 				else 
 				{
@@ -4808,12 +4808,12 @@ public class SimpleSelect
 //							|| tokens[pos].getString().substring(1, tokens[pos].getString().length()-1).indexOf("\"") != -1)
 //						{
 //							MessageManager mm = ParseMessage.get();
-//							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, LikeӾʽʹ");
+//							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Like子句的套式类型错误");
 //						}
 //					}
 				}
 				
-//				String pattern = tokens[pos].getString().substring(1, tokens[pos].getString().length() - 1);//""''Աڲ,ټ
+//				String pattern = tokens[pos].getString().substring(1, tokens[pos].getString().length() - 1);//脱""或''以便于操作,最后再加上
 				
 				ArrayList<Node> tempList = new ArrayList<Node>();
 				for(int x = expList.size() - 1; x >= 0; x--)
@@ -4855,7 +4855,7 @@ public class SimpleSelect
 					int whenPos = Tokenizer.scanCaseWhen(tokens, pos, elsePos == -1 ? endPos : elsePos);
 					if(whenPos == -1)
 					{
-						throw new RQException("CASEȱWHENؼ");
+						throw new RQException("CASE语句缺少WHEN关键字");
 					}
 					ExpressionNode caseNode = scanExp(tokens, pos, whenPos);
 					nodeList.add(caseNode);
@@ -4931,7 +4931,7 @@ public class SimpleSelect
 				if(andPos == -1)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Betweenȱٹؼand");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Between后面缺少关键字and");
 				}
 				ExpressionNode floorValue = scanExp(tokens, i + 1, andPos);
 				
@@ -4962,7 +4962,7 @@ public class SimpleSelect
 				if (pos + 1 >= next || tokens[pos].getType() != Tokenizer.LPAREN || !tokens[pos + 1].isKeyWord("SELECT")) 
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ExistsӾӾĸʽ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Exists子句从句的格式错误");
 				}
 				
 				int end = Tokenizer.scanParen(tokens, pos, next);
@@ -5094,7 +5094,7 @@ public class SimpleSelect
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ռλ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 参数占位符解析错误");
 				}
 				expList.add(paramNode);
 			}
@@ -5108,7 +5108,7 @@ public class SimpleSelect
 						if (i == start)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ʽ'='ſͷ");
+							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 表达式不能以'='号开头");
 						}
 						else if(tokens[i-1].getType() != Tokenizer.OPERATOR) 
 						{
@@ -5127,7 +5127,7 @@ public class SimpleSelect
 						if (i + 1 == next)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ʽ'>'Žβ");
+							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 表达式不能以'>'号结尾");
 						}
 						else if(tokens[i + 1].getType() == Tokenizer.OPERATOR) 
 						{
@@ -5142,7 +5142,7 @@ public class SimpleSelect
 							else
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ĳʽʹ˲ֵ֧Ĳ");
+								throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 某表达式中使用了不支持的操作符");
 							}
 						}
 						else
@@ -5158,7 +5158,7 @@ public class SimpleSelect
 						if (i + 1 == next)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ʽ'<'Žβ");
+							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 表达式不能以'<'号结尾");
 						}
 						else if(tokens[i + 1].getType() == Tokenizer.OPERATOR) 
 						{
@@ -5186,7 +5186,7 @@ public class SimpleSelect
 							else
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ĳʽʹ˲ֵ֧Ĳ");
+								throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 某表达式中使用了不支持的操作符");
 							}
 						}
 						else
@@ -5202,7 +5202,7 @@ public class SimpleSelect
 						if (i + 1 == next)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ʽ'!'Žβ");
+							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 表达式不能以'!'号结尾");
 						}
 						else if(tokens[i + 1].getType() == Tokenizer.OPERATOR) 
 						{
@@ -5217,13 +5217,13 @@ public class SimpleSelect
 							else
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ĳʽʹ˲ֵ֧Ĳ");
+								throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 某表达式中使用了不支持的操作符");
 							}
 						}
 						else
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ʽ'!'ܵʹ");
+							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 表达式中'!'不能单独使用");
 						}
 					}
 					
@@ -5252,7 +5252,7 @@ public class SimpleSelect
 						if (i + 1 == next)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Isؼ÷");
+							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Is关键字用法错误");
 						}
 						else if(tokens[i + 1].getType() == Tokenizer.KEYWORD) 
 						{
@@ -5261,7 +5261,7 @@ public class SimpleSelect
 								if (i + 2 == next)
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Is Notؼ÷");
+									throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Is Not关键字用法错误");
 								}
 								
 								if(tokens[i + 2].getType() == Tokenizer.KEYWORD)
@@ -5273,15 +5273,15 @@ public class SimpleSelect
 									else
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Is Notؼֻܺnull");
+										throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Is Not关键字只能后接null");
 									}
 								}
 								else
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Is Notؼֻܺnull");
+									throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Is Not关键字只能后接null");
 								}
-								i = i + 1; //notֹӰ
+								i = i + 1; //跳过not防止影响后面的条件
 							}
 							else if(tokens[i + 1].getString().equalsIgnoreCase("NULL"))
 							{
@@ -5290,13 +5290,13 @@ public class SimpleSelect
 							else
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Isؼֻܺnull");
+								throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Is关键字只能后接null");
 							}
 						}
 						else
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Isؼ÷");
+							throw new RQException(mm.getMessage("syntax.error") + ":scanExp, Is关键字用法错误");
 						}
 					}
 					else if(value.equalsIgnoreCase("NULL"))
@@ -5319,7 +5319,7 @@ public class SimpleSelect
 					else
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanExp, ֵ֧Ĺؼ÷:" + value);
+						throw new RQException(mm.getMessage("syntax.error") + ":scanExp, 不支持的关键字用法:" + value);
 					}
 				}
 				else if(token.getType() == Tokenizer.STRING)
@@ -5350,7 +5350,7 @@ public class SimpleSelect
 			if (start == next) 
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanBy, ʼλóλ");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanBy, 起始位置超出结束位置");
 			}
 			
 			int end = Tokenizer.scanComma(tokens, start, next);
@@ -5366,7 +5366,7 @@ public class SimpleSelect
 				if(expNode.getNodeList() == null || expNode.getNodeList().size() == 0)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanBy, Ϊֵ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanBy, 分组项不能为空值");
 				}
 				Node node = null;
 				if(expNode.getNodeList().size() == 1)
@@ -5387,21 +5387,21 @@ public class SimpleSelect
 				if(node == null)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanBy, Ͳ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanBy, 分组项的类型不对");
 				}
 				this.groupList.add(node);
 			} 
 			else //not support 'AT'
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanBy, ֧At");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanBy, 不支持At语句");
 			}
 			start = end;
 		}
 		if(this.groupList == null || this.groupList.size() == 0)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanBy, ûκη");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanBy, 没有搜索到任何分组列");
 		}
 	}
 	
@@ -5411,7 +5411,7 @@ public class SimpleSelect
 		if (start == next || !tokens[start].isKeyWord("BY")) 
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanOrders, OrderӾʽ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanOrders, Order子句格式错误");
 		}
 
 		while (start < next) 
@@ -5420,7 +5420,7 @@ public class SimpleSelect
 			if (start == next) 
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanOrders, ʼλóλ");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanOrders, 起始位置超出结束位置");
 			}
 			
 			int end = Tokenizer.scanComma(tokens, start, next);
@@ -5459,7 +5459,7 @@ public class SimpleSelect
 			if(node == null)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanOrders, Ͳ");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanOrders, 排序项的类型不对");
 			}
 			
 			if(desc)
@@ -5478,7 +5478,7 @@ public class SimpleSelect
 		if (this.sortList == null || this.sortList.size() == 0) 
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanOrders, ֶβΪֵ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanOrders, 排序字段不能为空值");
 		}
 	}
 	
@@ -5510,13 +5510,13 @@ public class SimpleSelect
 							if(colNo <= 0 || colNo > this.columnList.size())
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":execute, ȡкŲ");
+								throw new RQException(mm.getMessage("syntax.error") + ":execute, 分组项取的列号不对");
 							}
 						}
 						catch(NumberFormatException ex)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":execute, Ͳ", ex);
+							throw new RQException(mm.getMessage("syntax.error") + ":execute, 分组项的类型不对", ex);
 						}
 						grpNode = this.columnList.get(colNo - 1);
 					}
@@ -5776,7 +5776,7 @@ public class SimpleSelect
 					|| ((BaseRecord)tab.get(1)).getFieldCount() != 1 || !(((BaseRecord)tab.get(1)).getFieldValue(0) instanceof Sequence))
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":execute, topŻ쳣");
+						throw new RQException(mm.getMessage("syntax.error") + ":execute, top优化结果异常");
 					}
 					
 					Table res = null;
@@ -5788,7 +5788,7 @@ public class SimpleSelect
 						if(!(obj instanceof BaseRecord))
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":execute, topŻ쳣");
+							throw new RQException(mm.getMessage("syntax.error") + ":execute, top优化结果异常");
 						}
 						
 						BaseRecord rec = (BaseRecord)obj;
@@ -5844,7 +5844,7 @@ public class SimpleSelect
 						if(expNode.hasFieldNotGroup())
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":execute, ͬһʽвͬʱַǷֶκ;ۺϺ");
+							throw new RQException(mm.getMessage("syntax.error") + ":execute, 同一表达式中不能同时出现非分组字段和聚合函数");
 						}
 						gatherSign = true;
 						expNode.collect();
@@ -5860,7 +5860,7 @@ public class SimpleSelect
 			if(gatherSign && fieldNotGroupSign)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":execute, ѯֶвͬʱַǷֶκ;ۺϺ");
+				throw new RQException(mm.getMessage("syntax.error") + ":execute, 待查询字段中不能同时出现非分组字段和聚合函数");
 			}
 			
 			if(gatherSign || this.groupList != null && this.groupList.size() != 0)
@@ -6081,12 +6081,12 @@ public class SimpleSelect
 						if(this.topNumber >= 0 && this.limitNumber >= 0)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":execute, TopؼLimitؼֲͬʱʹ");
+							throw new RQException(mm.getMessage("syntax.error") + ":execute, Top关键字与Limit关键字不能同时使用");
 						}
 						else if(this.topNumber >= 0 && this.offsetNumber >= 0)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":execute, TopؼOffsetؼֲͬʱʹ");
+							throw new RQException(mm.getMessage("syntax.error") + ":execute, Top关键字与Offset关键字不能同时使用");
 						}
 						
 						limit = this.topNumber >= 0 ? this.topNumber : this.limitNumber;
@@ -6117,14 +6117,14 @@ public class SimpleSelect
 								if(colNo <= 0 || colNo > this.columnList.size())
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":execute, ȡкŲ");
+									throw new RQException(mm.getMessage("syntax.error") + ":execute, 排序项取的列号不对");
 								}
 								ordExp = "#" + colNo;
 							}
 							catch(NumberFormatException ex)
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":execute, Ͳ", ex);
+								throw new RQException(mm.getMessage("syntax.error") + ":execute, 排序项的类型不对", ex);
 							}
 						}
 						else
@@ -6282,12 +6282,12 @@ public class SimpleSelect
 							if(this.topNumber >= 0 && this.limitNumber >= 0)
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":execute, TopؼLimitؼֲͬʱʹ");
+								throw new RQException(mm.getMessage("syntax.error") + ":execute, Top关键字与Limit关键字不能同时使用");
 							}
 							else if(this.topNumber >= 0 && this.offsetNumber >= 0)
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":execute, TopؼOffsetؼֲͬʱʹ");
+								throw new RQException(mm.getMessage("syntax.error") + ":execute, Top关键字与Offset关键字不能同时使用");
 							}
 							limit = this.topNumber >= 0 ? this.topNumber : this.limitNumber;
 							offset = this.offsetNumber > 0 ? this.offsetNumber : 0;
@@ -6316,14 +6316,14 @@ public class SimpleSelect
 									if(colNo <= 0 || colNo > this.columnList.size())
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":execute, ȡкŲ");
+										throw new RQException(mm.getMessage("syntax.error") + ":execute, 排序项取的列号不对");
 									}
 									ordExp = "#" + colNo;
 								}
 								catch(NumberFormatException ex)
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":execute, Ͳ", ex);
+									throw new RQException(mm.getMessage("syntax.error") + ":execute, 排序项的类型不对", ex);
 								}
 							}
 							else
@@ -6409,12 +6409,12 @@ public class SimpleSelect
 							if(this.topNumber >= 0 && this.limitNumber >= 0)
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":execute, TopؼLimitؼֲͬʱʹ");
+								throw new RQException(mm.getMessage("syntax.error") + ":execute, Top关键字与Limit关键字不能同时使用");
 							}
 							else if(this.topNumber >= 0 && this.offsetNumber >= 0)
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":execute, TopؼOffsetؼֲͬʱʹ");
+								throw new RQException(mm.getMessage("syntax.error") + ":execute, Top关键字与Offset关键字不能同时使用");
 							}
 							limit = this.topNumber >= 0 ? this.topNumber : this.limitNumber;
 							offset = this.offsetNumber > 0 ? this.offsetNumber : 0;
@@ -6444,14 +6444,14 @@ public class SimpleSelect
 									if(colNo <= 0 || colNo > this.columnList.size())
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":execute, ȡкŲ");
+										throw new RQException(mm.getMessage("syntax.error") + ":execute, 排序项取的列号不对");
 									}
 									ordExp = "#" + colNo;
 								}
 								catch(NumberFormatException ex)
 								{
 									MessageManager mm = ParseMessage.get();
-									throw new RQException(mm.getMessage("syntax.error") + ":execute, Ͳ", ex);
+									throw new RQException(mm.getMessage("syntax.error") + ":execute, 排序项的类型不对", ex);
 								}
 							}
 							else
@@ -6548,12 +6548,12 @@ public class SimpleSelect
 			if(this.topNumber >= 0 && this.limitNumber >= 0)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":execute, TopؼLimitؼֲͬʱʹ");
+				throw new RQException(mm.getMessage("syntax.error") + ":execute, Top关键字与Limit关键字不能同时使用");
 			}
 			else if(this.topNumber >= 0 && this.offsetNumber >= 0)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":execute, TopؼOffsetؼֲͬʱʹ");
+				throw new RQException(mm.getMessage("syntax.error") + ":execute, Top关键字与Offset关键字不能同时使用");
 			}
 			else if(this.topNumber >= 0)
 			{	
@@ -6640,13 +6640,13 @@ public class SimpleSelect
 				}
 				else
 				{
-					throw new RQException("Ϊ");
+					throw new RQException("函数参数不能为空");
 				}
 				start = comma + 1;
 				if(start >= next)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("function.paramError") + ":getParams, ʽ");
+					throw new RQException(mm.getMessage("function.paramError") + ":getParams, 参数格式有误");
 				}
 			}
 		}
@@ -6666,7 +6666,7 @@ public class SimpleSelect
 		else if(topFilter != null)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":optimizeWhere, WHEREӾ䱻ظ");
+			throw new RQException(mm.getMessage("syntax.error") + ":optimizeWhere, WHERE子句被重复分析");
 		}
 		return pw.getTokens(true);
 	}
@@ -6708,7 +6708,7 @@ public class SimpleSelect
 		else
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("function.paramError") + ":getSQLValue, ֵ֧");
+			throw new RQException(mm.getMessage("function.paramError") + ":getSQLValue, 不支持的数据类型");
 		}
 	}
 	
@@ -6749,7 +6749,7 @@ public class SimpleSelect
 		else
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("function.paramError") + ":getProcValue, ֵ֧");
+			throw new RQException(mm.getMessage("function.paramError") + ":getProcValue, 不支持的数据类型");
 		}
 	}
 	
@@ -6763,7 +6763,7 @@ public class SimpleSelect
 		if(ds == null)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ѯȱݽṹ");
+			throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, 查询结果序列缺少数据结构");
 		}
 		
 		if(subQueryEntryList.isEmpty())
@@ -6787,13 +6787,13 @@ public class SimpleSelect
 				if(fromPos <= 0)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, FROMؼȱʧ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, FROM关键字缺失");
 				}
 				int wherePos = Tokenizer.scanKeyWord("WHERE", subQueryTokens, 0, subQueryTokens.length);
 				if(wherePos >= 0 && wherePos < fromPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, WHEREؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, WHERE关键字的位置不正确");
 				}
 				if(wherePos < 0)
 				{
@@ -6804,35 +6804,35 @@ public class SimpleSelect
 				if(groupPos >= 0 && groupPos < wherePos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, GROUPؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, GROUP关键字的位置不正确");
 				}
 				minPos = pos(groupPos, minPos);
 				int havingPos = Tokenizer.scanKeyWord("HAVING", subQueryTokens, 0, subQueryTokens.length);
 				if(havingPos >= 0 && havingPos < groupPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, HAVINGؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, HAVING关键字的位置不正确");
 				}
 				minPos = pos(havingPos, minPos);
 				int orderPos = Tokenizer.scanKeyWord("ORDER", subQueryTokens, 0, subQueryTokens.length);
 				if(orderPos >= 0 && orderPos < minPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ORDERؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ORDER关键字的位置不正确");
 				}
 				minPos = pos(orderPos , minPos);
 				int limitPos = Tokenizer.scanKeyWord("LIMIT", subQueryTokens, 0, subQueryTokens.length);
 				if(limitPos >= 0 && limitPos < minPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, LIMITؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, LIMIT关键字的位置不正确");
 				}
 				minPos = pos(limitPos , minPos);
 				int offsetPos = Tokenizer.scanKeyWord("OFFSET", subQueryTokens, 0, subQueryTokens.length);
 				if(offsetPos >= 0 && offsetPos < minPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, OFFSETؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, OFFSET关键字的位置不正确");
 				}
 				int byStart = pos(groupPos, wherePos, fromPos);
 				int byEnd = pos(havingPos, orderPos, limitPos, offsetPos, subQueryTokens.length);
@@ -6840,12 +6840,12 @@ public class SimpleSelect
 				if(byPos < 0 && groupPos > 0)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ؼGROUPȱٹؼBY");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, 关键字GROUP后面缺少关键字BY");
 				}
 				else if(havingPos > 0 && byPos > havingPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ؼBYλӦHAVING֮ǰ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, 分组关键字BY位置应该在HAVING之前");
 				}
 				
 				int whereEnd = pos(groupPos, byPos, havingPos, orderPos, limitPos, offsetPos, subQueryTokens.length);
@@ -6853,28 +6853,28 @@ public class SimpleSelect
 				if(intoPos >= fromPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, INTOؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, INTO关键字的位置不正确");
 				}
 				int columnEnd = pos(intoPos, fromPos);
 				int selectPos = Tokenizer.scanKeyWord("SELECT", subQueryTokens, 0, subQueryTokens.length);
 				if(selectPos < 0)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, SELECTؼȱʧ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, SELECT关键字缺失");
 				}
 				int columnStart = selectPos;
 				int distinctPos = Tokenizer.scanKeyWord("DISTINCT", subQueryTokens, 0, subQueryTokens.length);
 				if(distinctPos >= 0 && distinctPos < selectPos)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, DISTINCTؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, DISTINCT关键字的位置不正确");
 				}
 				columnStart = pos(distinctPos, columnStart);
 				int topPos = Tokenizer.scanKeyWord("TOP", subQueryTokens, 0, subQueryTokens.length);
 				if(topPos >= 0 && topPos < columnStart)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, TOPؼֵλòȷ");
+					throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, TOP关键字的位置不正确");
 				}
 				columnStart = pos(topPos, columnStart);
 				if(columnStart == topPos)
@@ -6906,7 +6906,7 @@ public class SimpleSelect
 						if(Tokenizer.scanComma(columnTokens, 0, columnTokens.length) != -1)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, ӲѯSELECTֶα뵥");
+							throw new RQException(mm.getMessage("syntax.error") + ":fillSubQueryField, 子查询中SELECT字段必须单列");
 						}
 						if(columnTokens[columnTokens.length - 1].getSpaces().isEmpty())
 						{
@@ -7007,15 +7007,15 @@ public class SimpleSelect
 						if(fltExps.length != 2)
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, ֵʽ﷨");
+							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, 等值布尔表达式语法错误");
 						}
 						
-						if(outerFieldSet.contains(fltExps[0].trim().toLowerCase())) //ⲿֶ
+						if(outerFieldSet.contains(fltExps[0].trim().toLowerCase())) //外部字段
 						{
 							String numberCode = ExpressionTranslator.translateExp(fltExps[0].trim().toLowerCase(), fn2cnMap);
 							outerExpsList.add(new Expression(numberCode));
 						}
-						else if(innerFieldSet.contains(fltExps[0].trim().toLowerCase())) //ڲֶ
+						else if(innerFieldSet.contains(fltExps[0].trim().toLowerCase())) //内部字段
 						{
 							String numberCode = ExpressionTranslator.translateExp(fltExps[0].trim().toLowerCase(), fn2cnMap);
 							innerExpsList.add(new Expression(numberCode));
@@ -7023,15 +7023,15 @@ public class SimpleSelect
 						else
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, δֶ֪");
+							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, 未知的字段");
 						}
 						
-						if(outerFieldSet.contains(fltExps[1].trim().toLowerCase())) //ⲿֶ
+						if(outerFieldSet.contains(fltExps[1].trim().toLowerCase())) //外部字段
 						{
 							String numberCode = ExpressionTranslator.translateExp(fltExps[1].trim().toLowerCase(), fn2cnMap);
 							outerExpsList.add(new Expression(numberCode));
 						}
-						else if(innerFieldSet.contains(fltExps[1].trim().toLowerCase())) //ڲֶ
+						else if(innerFieldSet.contains(fltExps[1].trim().toLowerCase())) //内部字段
 						{
 							String numberCode = ExpressionTranslator.translateExp(fltExps[1].trim().toLowerCase(), fn2cnMap);
 							innerExpsList.add(new Expression(numberCode));
@@ -7039,7 +7039,7 @@ public class SimpleSelect
 						else
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, δֶ֪");
+							throw new RQException(mm.getMessage("syntax.error")+":fillSubQueryField, 未知的字段");
 						}
 					}
 					
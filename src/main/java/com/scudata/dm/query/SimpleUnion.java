@@ -64,7 +64,7 @@ public class SimpleUnion
 		if(start < 0)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":query, ǷĲѯ");
+			throw new RQException(mm.getMessage("syntax.error") + ":query, 非法的查询语句");
 		}
 		
 		tokens = Arrays.copyOfRange(tokens, start, next);
@@ -143,7 +143,7 @@ public class SimpleUnion
 				else
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":query, ĵ"+i+"Ϊձ");
+					throw new RQException(mm.getMessage("syntax.error") + ":query, 做集合运算的第"+i+"个表为空表");
 				}
 			}
 			
@@ -151,7 +151,7 @@ public class SimpleUnion
 			if(subCurList.size() != 1 + mergeList.size())
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":query, ϹؼӵӴӾĿƥ");
+				throw new RQException(mm.getMessage("syntax.error") + ":query, 集合关键字与连接的子从句数目不匹配");
 			}
 			
 			this.icur = subCurList.get(0);
@@ -173,7 +173,7 @@ public class SimpleUnion
 						if(i == 0)
 						{
 							/*
-							//
+							//排序
 							if(left instanceof MemoryCursor || this.isMemory)
 							{
 								left = new MemoryCursor(left.fetch().sort(exps, null, null, this.ctx));
@@ -182,16 +182,16 @@ public class SimpleUnion
 							{
 								left = CursorUtil.sortx(left, exps, this.ctx, EnvUtil.getCapacity(exps.length), null);
 							}
-							//ȥ
+							//去重
 							left.addOperation(new Groups(exps, ds.getFieldNames(), new Expression[]{new Expression("count(1)")}, new String[]{"count(*)"}, "o", this.ctx), this.ctx);
-							//ȥ
+							//去除多余项
 							left.addOperation(new New(exps, ds.getFieldNames(), null), this.ctx);
 							*/
 
 							left = left == null ? null : left.groups(exps, ds.getFieldNames(), null, null, null, this.ctx);
 						}
 						/*
-						//
+						//排序
 						if(right instanceof MemoryCursor || this.isMemory)
 						{
 							right = new MemoryCursor(right.fetch().sort(exps, null, null, this.ctx));
@@ -200,9 +200,9 @@ public class SimpleUnion
 						{
 							right = CursorUtil.sortx(right, exps, this.ctx, EnvUtil.getCapacity(exps.length), null);
 						}
-						//ȥ
+						//去重
 						right.addOperation(new Groups(exps, ds.getFieldNames(), new Expression[]{new Expression("count(1)")}, new String[]{"count(*)"}, "o", this.ctx), this.ctx);
-						//ȥ
+						//去除多余项
 						right.addOperation(new New(exps, ds.getFieldNames(), null), this.ctx);
 						*/
 
@@ -225,7 +225,7 @@ public class SimpleUnion
 						break;
 					default:
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":query, ֵ֧ļ");
+						throw new RQException(mm.getMessage("syntax.error") + ":query, 不支持的集合类型");
 					}
 					
 					//ICursor[] curs = new ICursor[]{left, right};
@@ -241,12 +241,12 @@ public class SimpleUnion
 				if(orderList.size() <= 2)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":query, ORDERӾȱֶ");
+					throw new RQException(mm.getMessage("syntax.error") + ":query, ORDER子句中缺少排序字段");
 				}
 				else if(!orderList.get(0).isKeyWord("ORDER") || !orderList.get(1).isKeyWord("BY"))
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":query, ORDERӾĹؼ쳣");
+					throw new RQException(mm.getMessage("syntax.error") + ":query, ORDER子句的关键字异常");
 				}
 				else
 				{ 
@@ -289,7 +289,7 @@ public class SimpleUnion
 									else
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, ؼظʹ");
+										throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, 升降序关键字重复使用");
 									}
 								}
 								else if(orderTokens[i].isKeyWord("DESC"))
@@ -301,7 +301,7 @@ public class SimpleUnion
 									else
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, ؼظʹ");
+										throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, 升降序关键字重复使用");
 									}
 								}
 								else
@@ -346,7 +346,7 @@ public class SimpleUnion
 									else
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, ؼظʹ");
+										throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, 升降序关键字重复使用");
 									}
 								}
 								else if(orderTokens[i].isKeyWord("DESC"))
@@ -358,7 +358,7 @@ public class SimpleUnion
 									else
 									{
 										MessageManager mm = ParseMessage.get();
-										throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, ؼظʹ");
+										throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, 升降序关键字重复使用");
 									}
 								}
 								else
@@ -390,7 +390,7 @@ public class SimpleUnion
 							if(k <= 0 || k > ds.getFieldCount())
 							{
 								MessageManager mm = ParseMessage.get();
-								throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, ֶųΧ");
+								throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, 排序字段序号超出范围");
 							}
 							exps[i] = new Expression(String.format("%s#%d%s", ifDesc?"-(":"", k, ifDesc?")":""));
 						}
@@ -440,13 +440,13 @@ public class SimpleUnion
 		if(mergeList == null)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, :бΪ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, 参数错误:集合类型列表对象为空");
 		}
 		mergeList.clear();
 		if(orderList == null)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, :ֶбΪ");
+			throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, 参数错误:排序字段列表对象为空");
 		}
 		orderList.clear();
 		String[] keyWords = new String[]{"UNION", "INTERSECT", "EXCEPT", "MINUS"};
@@ -486,14 +486,14 @@ public class SimpleUnion
 				if(keyPos+1 == next)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, SQL䳤ȴ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, SQL语句长度错误");
 				}
 				if(tokens[keyPos+1].getType() == Tokenizer.KEYWORD && tokens[keyPos+1].isKeyWord("ALL"))
 				{
 					if(mergeType != unionType)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, ֧EXCEPT(MINUS)INTERSECTALLؼ");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, 不支持EXCEPT(MINUS)或INTERSECT与ALL关键字连用");
 					}
 					mergeType |= allType;
 					begin = keyPos + 2;
@@ -505,7 +505,7 @@ public class SimpleUnion
 				if(begin == next)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, SQL䳤ȴ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, SQL语句长度错误");
 				}
 				mergeList.add(mergeType);
 			}
@@ -524,9 +524,9 @@ public class SimpleUnion
 					if(i != sz-1)
 					{
 						MessageManager mm = ParseMessage.get();
-						throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, мϹϵORDERӾΨһ");
+						throw new RQException(mm.getMessage("syntax.error") + ":scanUnion, 有集合关系的语句ORDER子句必须在最后且唯一");
 					}
-					else  // Ϊȫֵorder¼
+					else  // 否则作为全局的order记录
 					{
 						Token[] orderTokens = Arrays.copyOfRange(subTokens, orderPos, len);
 						orderList.addAll(Arrays.asList(orderTokens));
@@ -534,7 +534,7 @@ public class SimpleUnion
 						len = subTokens.length;
 					}
 				}
-				while(subTokens[0].getType() == Tokenizer.LPAREN) //ȥ
+				while(subTokens[0].getType() == Tokenizer.LPAREN) //脱去无意义的括号
 				{
 					int end = Tokenizer.scanParen(subTokens, 0, len);
 					if(end == len - 1)
@@ -553,13 +553,13 @@ public class SimpleUnion
 					int topPos = Tokenizer.scanKeyWord("TOP", subTokens, 0, len);
 					int limitPos = Tokenizer.scanKeyWord("LIMIT", subTokens, 0, len);
 					int offsetPos = Tokenizer.scanKeyWord("OFFSET", subTokens, 0, len);
-					if(topPos < 0 && limitPos < 0 && offsetPos < 0) // ûtop/limit/offsetorderŻ
+					if(topPos < 0 && limitPos < 0 && offsetPos < 0) // 包含在括号里的没有top/limit/offset的无意义order将被优化掉
 					{
 						subTokens = Arrays.copyOfRange(subTokens, 0, orderPos);
 						len = subTokens.length;
 					}
 				}
-				while(subTokens[0].getType() == Tokenizer.LPAREN)//üorderٴȥ
+				while(subTokens[0].getType() == Tokenizer.LPAREN)//裁剪order后再次脱去无意义的括号
 				{
 					int end = Tokenizer.scanParen(subTokens, 0, len);
 					if(end == len - 1)
@@ -584,22 +584,22 @@ public class SimpleUnion
 		if (start+4 >= next)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITHӾ䳤ȴ");
+			throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITH子句长度错误");
 		}
 		else if (tokens[start].getType() != Tokenizer.IDENT )
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITHӾ");
+			throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITH子句表别名错误");
 		}
 		else if (!tokens[start+1].isKeyWord("AS"))
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITHӾASؼִ");
+			throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITH子句AS关键字错误");
 		}
 		else if (tokens[start+2].getType() != Tokenizer.LPAREN || tokens[next-1].getType() != Tokenizer.RPAREN)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITHӾŴ");
+			throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITH子句左右括号错误");
 		}
 		
 		String tableName = tokens[start].getString();
@@ -615,13 +615,13 @@ public class SimpleUnion
 		tableExpress = tableExpress.trim();
 		
 		Object tableNode = null;	
-		if(tableExpress.startsWith("\"") && tableExpress.endsWith("\"") //""ĬǱļ֧
+		if(tableExpress.startsWith("\"") && tableExpress.endsWith("\"") //带""的默认是表文件名，不再支持
 			&& tableExpress.substring(1, tableExpress.length()-1).indexOf("\"") == -1)
 		{
 			MessageManager mm = ParseMessage.get();
-			throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITHӾֻʹüűӲѯ");
+			throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITH子句中只能使用集算器脚本或子查询语句");
 		}
-		else //ǼʽӲѯ
+		else //否则可能是集算器表达式、子查询语句或表名
 		{
 			try
 			{
@@ -687,7 +687,7 @@ public class SimpleUnion
 							}
 						}
 						Map<String, Object> subWithTableMap = new HashMap<String, Object>();
-						subWithTableMap.putAll(this.withTableMap);//µMapԷֹSimpleSQLصѭ
+						subWithTableMap.putAll(this.withTableMap);//生成新的Map以防止SimpleSQL回调自身造成死循环
 						SimpleSQL lq = new SimpleSQL(this.ics, newTokens, 0, newTokens.length, this.parameterList, this.ctx, false);
 						lq.setMemory(this.isMemory);
 						lq.setWithTableMap(subWithTableMap);
@@ -700,26 +700,26 @@ public class SimpleUnion
 						if(msg != null && msg.equalsIgnoreCase("INTO"))
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITHӾвʹINTOؼ");
+							throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITH子句中不能使用INTO关键字");
 						}
 						else if(msg != null && msg.equalsIgnoreCase("WITH"))
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITHӾвǶWITHؼ");
+							throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITH子句中不能嵌套WITH关键字");
 						}
 						else if(msg != null && msg.equalsIgnoreCase("ORDER"))
 						{
 							MessageManager mm = ParseMessage.get();
-							throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITHӾвʹORDERؼֳTOP/LIMIT/OFFSETؼ");
+							throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITH子句中不能使用ORDER关键字除非有TOP/LIMIT/OFFSET关键字");
 						}
 
 						isSubQuery = false;
 					}
 				}
-				if(!isSubQuery) //ֱ֧ļ·
+				if(!isSubQuery) //不再支持表文件路径
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITHӾֻʹüűӲѯ");
+					throw new RQException(mm.getMessage("syntax.error") + ":addTable, WITH子句中只能使用集算器脚本或子查询语句");
 				}
 			}
 		}
@@ -736,7 +736,7 @@ public class SimpleUnion
 			if(withPos != start)
 			{
 				MessageManager mm = ParseMessage.get();
-				throw new RQException(mm.getMessage("syntax.error") + ":scanWith, WITHؼλô");
+				throw new RQException(mm.getMessage("syntax.error") + ":scanWith, WITH关键字位置错误");
 			}
 			beginPos = withPos+1;
 			while(beginPos + 5 < next && tokens[beginPos].getType() == Tokenizer.IDENT 
@@ -748,7 +748,7 @@ public class SimpleUnion
 				if(endPos == next)
 				{
 					MessageManager mm = ParseMessage.get();
-					throw new RQException(mm.getMessage("syntax.error") + ":scanWith, WITHӾȱ");
+					throw new RQException(mm.getMessage("syntax.error") + ":scanWith, WITH子句缺少主语句");
 				}
 				else if(tokens[endPos].getType() != Tokenizer.COMMA)
 				{
@@ -63,8 +63,8 @@ public final class Token {
 		return id.equals(str);
 	}
 
-	// жϱʽڵǷҽڵ
-	// ؼֿұʽ
+	// 判断表达式节点是否可以有右节点
+	// 操作符或操作符关键字可以有右表达式
 	public boolean canHaveRightExp() {
 		if (type == Tokenizer.OPERATOR || type == Tokenizer.DOT) { //type == Tokenizer.TABLEMARK || LEVELMARK
 			return true;
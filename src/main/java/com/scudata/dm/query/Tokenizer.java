@@ -8,11 +8,11 @@ import com.scudata.common.Sentence;
 import com.scudata.resources.ParseMessage;
 
 public final class Tokenizer {
-	public static final char KEYWORD = 0; // 
-	public static final char IDENT = 1; // ֶΡ
-	public static final char NUMBER = 2; // ֳ
-	public static final char STRING = 3; // ַ
-	public static final char OPERATOR = 4; // +-*/=<>&|^%!
+	public static final char KEYWORD = 0; // 保留字
+	public static final char IDENT = 1; // 表、字段、别名、函数
+	public static final char NUMBER = 2; // 数字常量
+	public static final char STRING = 3; // 字符串常量
+	public static final char OPERATOR = 4; // 运算符+-*/=<>&|^%!
 
 	public static final char LPAREN = '(';
 	public static final char RPAREN = ')';
@@ -23,23 +23,23 @@ public final class Tokenizer {
 	public static final char PARAMMARK = '?';
 
 	public static final char LEVELMARK = '#';
-	public static final char TABLEMARK = '@'; // F@S@var
+	public static final char TABLEMARK = '@'; // F@S、@var
 	//public static final char LOCATORMARK = '~'; // F~W
 
-	public static final char OUTERFUNCTION = '$'; // $func(...) ͶӦIDENT
+	public static final char OUTERFUNCTION = '$'; // $func(...) 类型对应IDENT？
 
-	private static final String OPSTRING = "+-*/=<>&|^%!~"; // ~λȡ
+	private static final String OPSTRING = "+-*/=<>&|^%!~"; // ~按位取反
 	private final static String[] GATHERS = {"AVG", "COUNT", "MAX", "MIN", "SUM", "COUNTIF", "FIRST", "LAST"};
-	//private final static String[] ں = {"AVG", "COUNT", "MAX", "MIN", "SUM", "RANK", "DENSE_RANK", "ROW_NUMBER"};
+	//private final static String[] 窗口函数 = {"AVG", "COUNT", "MAX", "MIN", "SUM", "RANK", "DENSE_RANK", "ROW_NUMBER"};
 
 	//private final static String[] OPERATORS = {
 	//	"+","-","*","/","=","<","<=","<>","!=",">",">=","%","^","||"
 	//};
 
 	public static final String COL_AS = " "; // " AS "
-	public static final String TABLE_AS = " "; // oracleıܼas
+	public static final String TABLE_AS = " "; // oracle表的别名不能加as
 
-	// ѡбʽпõĹؼ֣жѡıʶǷǱ
+	// 选出列表达式中可以用的关键字，用于判断选出列最后的标识符是否是别名
 	private final static String[] OPKEYWORDS = {"AND", "OR", "LIKE", "NOT"};
 
 	// "BETWEEN","ROWS","CASE","INNER","END","ONLY", "OUTER",
@@ -67,12 +67,12 @@ public final class Tokenizer {
 		"WHEN","WHERE","WITH"
 	};
 
-	// Һϲؼ
+	// 查找合并关键字
 	public static int scanMergeKeyWord(Token []tokens, int start, final int next) {
 		for(int i = start; i < next; ++i) {
 			if(tokens[i].isMergeKeyWord()) {
 				return i;
-			} else if (tokens[i].getType() == LPAREN) { // ()
+			} else if (tokens[i].getType() == LPAREN) { // 跳过()
 				i = scanParen(tokens, i, next);
 			}
 		}
@@ -80,7 +80,7 @@ public final class Tokenizer {
 		return -1;
 	}
 
-	// ָΧָĹؼ֣Ҫд
+	// 在指定范围内搜索指定的关键字，需要大写
 	public static int scanByDataKeyWord(Token []tokens, int start, final int next) {
 		for(int i = start; i < next; ++i) {
 			Token token = tokens[i];
@@ -90,7 +90,7 @@ public final class Tokenizer {
 				} else if (token.equals("FROM") || token.equals("HAVING") || token.equals("ORDER")) {
 					return -1;
 				}
-			} else if (tokens[i].getType() == LPAREN) { // ()
+			} else if (tokens[i].getType() == LPAREN) { // 跳过()
 				i = scanParen(tokens, i, next);
 			}
 		}
@@ -98,14 +98,14 @@ public final class Tokenizer {
 		return -1;
 	}
 
-	// ָΧָĹؼ֣Ҫд
+	// 在指定范围内搜索指定的关键字，需要大写
 	public static int scanKeyWord(String key, Token []tokens, int start, final int next) {
 		for(int i = start; i < next; ++i) {
 			if(tokens[i].isKeyWord(key)) {
 				return i;
-			} else if (tokens[i].getType() == LPAREN) { // ()
+			} else if (tokens[i].getType() == LPAREN) { // 跳过()
 				i = scanParen(tokens, i, next);
-			} else if (tokens[i].getType() == LBRACE) { // {}
+			} else if (tokens[i].getType() == LBRACE) { // 跳过{}
 				i = scanBrace(tokens, i, next);
 			}
 		}
@@ -117,7 +117,7 @@ public final class Tokenizer {
 		for(int i = next - 1; i >= start; --i) {
 			if(tokens[i].isKeyWord(key)) {
 				return i;
-			} else if (tokens[i].getType() == RPAREN) { // ()
+			} else if (tokens[i].getType() == RPAREN) { // 跳过()
 				i = lastScanParen(tokens, start, i);
 			}
 		}
@@ -129,7 +129,7 @@ public final class Tokenizer {
 		int keyCount = keys.length;
 		for(int i = start; i < next; ++i) {
 			Token token = tokens[i];
-			if (token.getType() == LPAREN) { // ()
+			if (token.getType() == LPAREN) { // 跳过()
 				i = scanParen(tokens, i, next);
 			} else if (token.getType() == KEYWORD) {
 				for (int k = 0; k < keyCount; ++k) {
@@ -141,13 +141,13 @@ public final class Tokenizer {
 		return -1;
 	}
 
-	// ָΧ
+	// 在指定范围内搜索逗号
 	public static int scanComma(Token []tokens, int start, final int next) {
 		for(int i = start; i < next; ++i) {
 			char type = tokens[i].getType();
 			if(type == COMMA) {
 				return i;
-			} else if(type == LPAREN) { // ()
+			} else if(type == LPAREN) { // 跳过()
 				i = scanParen(tokens, i, next);
 			}
 		}
@@ -155,7 +155,7 @@ public final class Tokenizer {
 		return -1;
 	}
 
-	// ()ʼλ
+	// 搜索()，起始位置是左括号
 	public static int scanParen(Token []tokens, int start, final int next) {
 		int deep = 0;
 		for (int i = start + 1; i < next; ++i) {
@@ -171,7 +171,7 @@ public final class Tokenizer {
 		throw new RQException("(,)" + mm.getMessage("mark.notMatch"));
 	}
 
-	// endΪ
+	// end为右括号
 	public static int lastScanParen(Token []tokens, int start, int end) {
 		int deep = 0;
 		for(int i = end - 1; i >= start; --i) {
@@ -219,22 +219,22 @@ public final class Tokenizer {
 	}
 
 	public static boolean isIdentifierStart(char ch) {
-		// sqlserverʱ#
+		// sqlserver临时表不会出现#？
 		return Character.isJavaIdentifierStart(ch); //  || ch == '#'
 	}
 
 	public static boolean isIdentifierPart(char ch) {
-		// sqlserverʱ#
+		// sqlserver临时表不会出现#？
 		return Character.isJavaIdentifierPart(ch); //  || ch == '#'
 	}
 
-	// sql˫ڵΪʶ
+	// 解析sql，双引号内的为标识符
 	public static Token[] parse(String command) {
 		int curIndex = 0;
 		//command = command.replaceAll("\"", " ").replaceAll("\r\n", " ").replaceAll("\r", " ").replaceAll("\n", " ");
 		command = command.trim();
 		
-		//xingjl 20201211,  where 1=2ʱȥwheretop 11顢ɼ
+		//xingjl 20201211, 以 where 1=2结束时，去掉where，用top 1返回1条，针对永洪、帆软集成集算器
 		String upp = command.toUpperCase();
 		int selectPos = upp.indexOf("SELECT ");
 		int topPos = upp.indexOf(" TOP ");
@@ -268,13 +268,13 @@ public final class Tokenizer {
 				Token token = new Token(ch, id, curIndex, id);
 				tokenList.add(token);
 				curIndex = next;
-			} else if (ch == OUTERFUNCTION) { // $IDENT
+			} else if (ch == OUTERFUNCTION) { // $，类型用IDENT？
 				int next = scanId(command, curIndex + 1);
 				String id = command.substring(curIndex, next);
 				Token token = new Token(IDENT, id, curIndex, id);
 				tokenList.add(token);
 				curIndex = next;
-			} else if (isIdentifierStart(ch)) { // ʶֶΡ
+			} else if (isIdentifierStart(ch)) { // 标识符、字段、表
 				int next = scanId(command, curIndex + 1);
 				String id = command.substring(curIndex, next);
 				String upId = id.toUpperCase();
@@ -287,14 +287,14 @@ public final class Tokenizer {
 				}
 
 				curIndex = next;
-			} else if (Character.isDigit(ch)) { // 
+			} else if (Character.isDigit(ch)) { // 数字
 				int next = scanNumber(command, curIndex + 1);
 				String id = command.substring(curIndex, next);
 				Token token = new Token(NUMBER, id, curIndex, id);
 				tokenList.add(token);
 
 				curIndex = next;
-			} else if (ch == DOT) { // .
+			} else if (ch == DOT) { // .操作符或数字
 				int next = scanNumber(command, curIndex);
 				String id = command.substring(curIndex, next);
 				if (next > curIndex + 1) {
@@ -306,7 +306,7 @@ public final class Tokenizer {
 				}
 
 				curIndex = next;
-			} else if (ch == '\'') { // ַ
+			} else if (ch == '\'') { // 字符串
 				int next = scanString(command, curIndex + 1);
 				if (next < 0) {
 					MessageManager mm = ParseMessage.get();
@@ -318,14 +318,14 @@ public final class Tokenizer {
 				tokenList.add(token);
 
 				curIndex = next;
-			} else if (ch == '"') { // ֶ
+			} else if (ch == '"') { // 表名或字段
 				int next = scanId(command, curIndex);
 				String id = command.substring(curIndex, next);
 				Token token = new Token(IDENT, id, curIndex, id);
 				tokenList.add(token);
 
 				curIndex = next;
-			} else if (ch == PARAMMARK) { // ? ?1 ?2 ...
+			} else if (ch == PARAMMARK) { // ? ?1 ?2 ...参数
 				int numIndex = curIndex + 1;
 				int next = scanNumber(command, numIndex);
 				if (next > numIndex) { // ?n
@@ -347,7 +347,7 @@ public final class Tokenizer {
 				Token token = new Token(ch, "?" + paramSeq, curIndex, "?" + paramSeq);
 				tokenList.add(token);
 				curIndex = next;
-			} else if (OPSTRING.indexOf(ch) != -1) { // 
+			} else if (OPSTRING.indexOf(ch) != -1) { // 运算符
 				String id = command.substring(curIndex, curIndex + 1);
 				Token token = new Token(OPERATOR, id, curIndex, id);
 				tokenList.add(token);
@@ -385,7 +385,7 @@ public final class Tokenizer {
 			char ch = command.charAt(curIndex);
 			if (Character.isWhitespace(ch)) {
 				curIndex++;
-			} else if (Character.isJavaIdentifierStart(ch)) { // ʶֶΡ
+			} else if (Character.isJavaIdentifierStart(ch)) { // 标识符、字段、表
 				int next = scanId(command, curIndex + 1);
 				String id = command.substring(curIndex, next).toUpperCase();
 				if (id.equals("SELECT") || id.equals("WITH") || id.equals("CREATE") || id.equals("DROP")) {
@@ -393,9 +393,9 @@ public final class Tokenizer {
 				}
 
 				curIndex = next;
-			} else if (Character.isDigit(ch)) { // 
+			} else if (Character.isDigit(ch)) { // 数字
 				curIndex = scanNumber(command, curIndex + 1);
-			} else if (ch == '\'') { // ַ
+			} else if (ch == '\'') { // 字符串
 				int next = scanString(command, curIndex + 1);
 				if (next < 0) {
 					MessageManager mm = ParseMessage.get();
@@ -403,7 +403,7 @@ public final class Tokenizer {
 				}
 
 				curIndex = next;
-			} else if (ch == '"') { // ֶ
+			} else if (ch == '"') { // 表名或字段
 				int next = scanIdString(command, curIndex + 1);
 				if (next < 0) {
 					MessageManager mm = ParseMessage.get();
@@ -467,7 +467,7 @@ public final class Tokenizer {
 		return start;
 	}
 
-	// 'ss'ַﺬеһĵűʾ 'dd''ff'
+	// 查找'ss'，如果字符串里含有单引号则用两个连一块的单引号表示 'dd''ff'
 	public static int scanString(String command, int start) {
 		int len = command.length();
 		for (; start < len; ++start) {
@@ -497,11 +497,11 @@ public final class Tokenizer {
 	}
 
 	/**
-	 * ַs滻ַrԵź˫
-	 * @param str String Դ
-	 * @param s char ַ ?
-	 * @param r String 滻ɵĴ
-	 * @param ignoreQuote boolean trueţ滻ڵִ
+	 * 把字符s替换成字符串r，忽略单引号和双引号括起来的内容
+	 * @param str String 源串
+	 * @param s char 字符 ?
+	 * @param r String 替换成的串
+	 * @param ignoreQuote boolean true：忽略引号，替换引号内的字串
 	 * @return String
 	 */
 	public static String replace(String str, char s, String r, boolean ignoreQuote) {
@@ -510,7 +510,7 @@ public final class Tokenizer {
 
 		for (int i = 0; i < len; ++i) {
 			char ch = str.charAt(i);
-			if (!ignoreQuote && (ch == '\'' || ch == '\"')) { // ַ
+			if (!ignoreQuote && (ch == '\'' || ch == '\"')) { // 字符串
 				int pos = Sentence.scanQuotation(str, i);
 				if (pos == -1) {
 					sb.append(str.substring(i));
@@ -530,12 +530,12 @@ public final class Tokenizer {
 	}
 
 	/**
-	 * 滻ַеıtableNameexpԴСдԵݣsܱ˫
-	 *  tableNam.field1滻t2.fk.field1tableName.
-	 * @param str String Դ
-	 * @param tableName String Ҫ滻ִ
-	 * @param exp String 滻ɵĴ
-	 * @return String 滻Ĵ
+	 * 替换字符串中的表名tableName成exp，忽略大小写，忽略单引号括起来的内容，s可能被双引号括起来
+	 * 例如 tableNam.field1替换成t2.fk.field1，tableName后跟着.操作符
+	 * @param str String 源串
+	 * @param tableName String 需要替换的字串
+	 * @param exp String 替换成的串
+	 * @return String 返回替换后的串
 	 */
 	public static String replaceTable(String str, String tableName, String exp) {
 		int len = str.length();
@@ -546,7 +546,7 @@ public final class Tokenizer {
 			throw new RQException(mm.getMessage("config.error"));
 		}
 
-		// tableNameŲ.Ĳ滻
+		// tableName后跟着操作符.的才替换？
 
 		for (int i = 0; i < len; ) {
 			if (i + subLen >= len) {
@@ -565,7 +565,7 @@ public final class Tokenizer {
 				}
 
 				i = next;
-			} else if (ch == '\'') { // ַ
+			} else if (ch == '\'') { // 字符串
 				int pos = Sentence.scanQuotation(str, i);
 				if (pos == -1) {
 					sb.append(str.substring(i));
@@ -578,7 +578,7 @@ public final class Tokenizer {
 				sb.append(ch);
 				i++;
 
-				// ֶΣֶܺͱˣ
+				// 跳过后面的字段，字段名可能和表名重了？
 				ch = str.charAt(i);
 				if (isIdentifierStart(ch) || ch == '"') {
 					int next = scanId(str, i);
@@ -606,7 +606,7 @@ public final class Tokenizer {
 			}
 
 			char ch = str.charAt(i);
-			if (!ignoreQuote && (ch == '\'' || ch == '\"')) { // ַ
+			if (!ignoreQuote && (ch == '\'' || ch == '\"')) { // 字符串
 				int pos = Sentence.scanQuotation(str, i);
 				if (pos == -1) {
 					sb.append(str.substring(i));
@@ -631,7 +631,7 @@ public final class Tokenizer {
 		return (ch.length() == 1 && OPSTRING.indexOf(ch) != -1);
 	}
 	
-	// {}ʼλ
+	// 搜索{}，起始位置是左大括号
 	public static int scanBrace(Token []tokens, int start, final int next) {
 		int deep = 0;
 		for (int i = start + 1; i < next; ++i) {
@@ -647,7 +647,7 @@ public final class Tokenizer {
 		throw new RQException("{,}" + mm.getMessage("mark.notMatch"));
 	}	
 	
-	// caseendʼλcase
+	// 搜索case的end，起始位置是case
 	public static int scanCaseEnd(Token []tokens, int start, final int next) {
 		int deep = 0;
 		for (int i = start + 1; i < next; ++i) {
@@ -659,10 +659,10 @@ public final class Tokenizer {
 			}
 		}
 
-		throw new RQException("CASEȱENDؼ");
+		throw new RQException("CASE语句缺少END关键字");
 	}	
 		
-	// casewhenʼλwhen
+	// 搜索case的when，起始位置when
 	public static int scanCaseWhen(Token []tokens, int start, final int next) {
 		int deep = 0;
 		for (int i = start + 1; i < next; ++i) {
@@ -673,14 +673,14 @@ public final class Tokenizer {
 			} else if (tokens[i].isKeyWord("WHEN")) {
 				if (deep == 0) return i;
 			} else if (deep < 0) {
-				throw new RQException("CASEжENDؼ");
+				throw new RQException("CASE语句中有多余的END关键字");
 			}
 		}		
 			
 		return -1;
 	}
 			
-	// casethenʼλwhen
+	// 搜索case的then，起始位置是when
 	public static int scanCaseThen(Token []tokens, int start, final int next) {
 		int deep = 0;
 		for (int i = start + 1; i < next; ++i) {
@@ -691,14 +691,14 @@ public final class Tokenizer {
 			} else if (tokens[i].isKeyWord("THEN")) {
 				if (deep == 0) return i;
 			} else if (deep < 0) {
-				throw new RQException("CASEжENDؼ");
+				throw new RQException("CASE语句中有多余的END关键字");
 			}
 		}
 
-		throw new RQException("CASEȱTHENؼ");
+		throw new RQException("CASE语句缺少THEN关键字");
 	}		
 			
-	// caseelseʼλcase
+	// 搜索case的else，起始位置是case
 	public static int scanCaseElse(Token []tokens, int start, final int next) {
 		int deep = 0;
 		for (int i = start + 1; i < next; ++i) {
@@ -709,7 +709,7 @@ public final class Tokenizer {
 			} else if (tokens[i].isKeyWord("ELSE")) {
 				if (deep == 0) return i;
 			} else if (deep < 0) {
-				throw new RQException("CASEжENDؼ");
+				throw new RQException("CASE语句中有多余的END关键字");
 			}
 		}
 		
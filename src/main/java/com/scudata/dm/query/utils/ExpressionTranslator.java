@@ -11,7 +11,7 @@ import java.util.regex.Pattern;
 
 import com.scudata.common.Logger;
 
-public class ExpressionTranslator //ֻܴмеıʽֱSQL
+public class ExpressionTranslator //只能处理中间过程中的表达式，不能直接用来处理SQL语句
 {
 	public static List<String> marksList = new ArrayList<String>();
 	public static List<String> funcsList = new ArrayList<String>();
@@ -23,10 +23,10 @@ public class ExpressionTranslator //ֻ
 			return exp;
 		}
 		Logger.debug("translateExp beg : "+ exp);		
-		exp = moveOutMarks(exp);//ֶַܰ""
-		exp = moveOutFuncs(exp, trMap);//ֶͬĺfun(
+		exp = moveOutMarks(exp);//保护可能包含字段名的字符串""
+		exp = moveOutFuncs(exp, trMap);//保护与字段同名的函数fun(
 		
-		//ǰ̵ں󣬷ֹİ̵
+		//长的在前，短的在后，防止长的包含短的
 		String[] keyBuf = new String[trMap.size()];
 		trMap.keySet().toArray(keyBuf);
 		Arrays.sort(keyBuf, new NameComprator()); 
@@ -40,9 +40,9 @@ public class ExpressionTranslator //ֻ
 			valueList.add(value);
 		}
 		
-		String specials = "^$.[]*\\?+{}|()";//ʽַ
+		String specials = "^$.[]*\\?+{}|()";//正则表达式的特殊字符
 		
-		//ԸСдͬʱڵ
+		//对付大小写同时存在的情况
 		Map<String, List<String>> ignoreCaseMap = new LinkedHashMap<String, List<String>>();
 		for(int i = 0; i < keyList.size(); i++)
 		{
@@ -60,7 +60,7 @@ public class ExpressionTranslator //ֻ
 			}
 		}
 		
-		//òɼʶ滻keyֹ;滻valueаkey
+		//先用不可见标识替换所有key，防止中途替换的value中包含后面的key
 		for(Map.Entry<String, List<String>> ignoreCaseEntry : ignoreCaseMap.entrySet())
 		{
 			List<String> ignoreCaseList = ignoreCaseEntry.getValue();
@@ -73,7 +73,7 @@ public class ExpressionTranslator //ֻ
 					char ch = sameKeyIgnoreCase.charAt(k);
 					if(specials.indexOf(ch) != -1)
 					{
-						sb.append('\\');//ʽַҪ\
+						sb.append('\\');//正则表达式的特殊字符要加\
 						sb.append(ch);
 					}
 					else
@@ -93,7 +93,7 @@ public class ExpressionTranslator //ֻ
 				char ch = sameKeyIgnoreCase.charAt(k);
 				if(specials.indexOf(ch) != -1)
 				{
-					sb.append('\\');//ʽַҪ\
+					sb.append('\\');//正则表达式的特殊字符要加\
 					sb.append(ch);
 				}
 				else
@@ -105,7 +105,7 @@ public class ExpressionTranslator //ֻ
 			exp = exp.replaceAll("(?i)" + sameKeyIgnoreCase, "" + (char)30 + (index + 1) + (char)31);
 		}
 		
-		//value滻вɼʶ
+		//最后用value替换所有不可见标识
 		for(int j = 0; j < valueList.size(); j++)
 		{
 			String value = valueList.get(j);
@@ -127,7 +127,7 @@ public class ExpressionTranslator //ֻ
 			return exp;
 		}
 		
-		//ǰ̵ں󣬷ֹİ̵
+		//长的在前，短的在后，防止长的包含短的
 		String[] keyBuf = new String[trMap.size()];
 		trMap.keySet().toArray(keyBuf);
 		Arrays.sort(keyBuf, new NameComprator()); 
@@ -141,9 +141,9 @@ public class ExpressionTranslator //ֻ
 			valueList.add(value);
 		}
 		
-		String specials = "^$.[]*\\?+{}|()";//ʽַ
+		String specials = "^$.[]*\\?+{}|()";//正则表达式的特殊字符
 		
-		//ԸСдͬʱڵ
+		//对付大小写同时存在的情况
 		Map<String, List<String>> ignoreCaseMap = new LinkedHashMap<String, List<String>>();
 		for(int i = 0; i < keyList.size(); i++)
 		{
@@ -161,7 +161,7 @@ public class ExpressionTranslator //ֻ
 			}
 		}		
 				
-		//òɼʶ滻keyֹ;滻valueаkey
+		//先用不可见标识替换所有key，防止中途替换的value中包含后面的key
 		for(Map.Entry<String, List<String>> ignoreCaseEntry : ignoreCaseMap.entrySet())
 		{
 			List<String> ignoreCaseList = ignoreCaseEntry.getValue();
@@ -174,7 +174,7 @@ public class ExpressionTranslator //ֻ
 					char ch = sameKeyIgnoreCase.charAt(k);
 					if(specials.indexOf(ch) != -1)
 					{
-						sb.append('\\');//ʽַҪ\
+						sb.append('\\');//正则表达式的特殊字符要加\
 						sb.append(ch);
 					}
 					else
@@ -194,7 +194,7 @@ public class ExpressionTranslator //ֻ
 				char ch = sameKeyIgnoreCase.charAt(k);
 				if(specials.indexOf(ch) != -1)
 				{
-					sb.append('\\');//ʽַҪ\
+					sb.append('\\');//正则表达式的特殊字符要加\
 					sb.append(ch);
 				}
 				else
@@ -206,7 +206,7 @@ public class ExpressionTranslator //ֻ
 			exp = exp.replaceAll("(?i)" + sameKeyIgnoreCase, "" + (char)30 + (index + 1) + (char)31);
 		}		
 		
-		//value滻вɼʶ
+		//最后用value替换所有不可见标识
 		for(int j = 0; j < valueList.size(); j++)
 		{
 			String value = valueList.get(j);
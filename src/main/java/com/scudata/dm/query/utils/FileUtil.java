@@ -7,9 +7,9 @@ import java.util.regex.Pattern;
 
 public class FileUtil {
 	/**
-	    * ڱļ²
-	    * @param s String ļ
-	    * @return File[] ҵļ
+	    * 在本文件夹下查找
+	    * @param s String 文件名
+	    * @return File[] 找到的文件
 	    */
 	   public static File[] getCurrDirectoryFiles(String s)
 	   {
@@ -26,14 +26,14 @@ public class FileUtil {
 	   }
 
 	   /**
-	    * ȡļ
-	    * Ըʽ
-	    * @param dir String ļ
-	    * @param s String ļɴ*.?ģѯ
-	    * @return File[] ҵļ
+	    * 获取文件
+	    * 可以根据正则表达式查找
+	    * @param dir String 文件夹名称
+	    * @param s String 查找文件名，可带*.?进行模糊查询
+	    * @return File[] 找到的文件
 	    */
 	   public static File[] getFiles(String dir,String s) {
-	     //ʼļ
+	     //开始的文件夹
 	     File file = new File(dir);
 	     s = s.replace('.', '#');
 	     s = s.replaceAll("#", "\\\\.");
@@ -51,9 +51,9 @@ public class FileUtil {
 	     return rtn;
 	   }
 	   /**
-	    * @param file File ʼļ
-	    * @param p Pattern ƥ
-	    * @return ArrayList ļµļ
+	    * @param file File 起始文件夹
+	    * @param p Pattern 匹配类型
+	    * @return ArrayList 其文件夹下的文件夹
 	    */
 	   private static ArrayList filePattern(File file, Pattern p, boolean first) {
 	     if (file == null) {
@@ -84,7 +84,7 @@ public class FileUtil {
 	     return null;
 	   }
 	   /**
-	    * 
+	    * 测试
 	    * @param args String[]
 	    */
 	   public static void main(String[] args) {
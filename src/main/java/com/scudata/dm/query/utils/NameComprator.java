@@ -10,9 +10,9 @@ public class NameComprator implements Comparator<String>
 	{
 		if(NameA == null || NameB == null)
 		{
-			throw new RQException("ַΪֵ޷ȽϴС");
+			throw new RQException("字符串为空值无法比较大小");
 		}
-		//ǰ棬̵ں
+		//长的排在前面，短的排在后面
         if(NameA.length() < NameB.length())
         {
         	return 1;
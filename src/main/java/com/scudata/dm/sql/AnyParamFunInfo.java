@@ -1,7 +1,7 @@
 package com.scudata.dm.sql;
 
 /**
- * ı׼Ϣ
+ * 函数参数任意的标准函数信息
  * @author RunQian
  *
  */
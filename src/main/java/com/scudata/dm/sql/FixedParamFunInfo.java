@@ -4,7 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
- * ̶ı׼Ϣ
+ * 函数参数固定的标准函数信息
  * @author RunQian
  *
  */
@@ -21,8 +21,8 @@ public class FixedParamFunInfo extends FunInfo {
 	}
 
 	/*
-	 * infoֵ3 Ϊnullʾ׼һ ΪN/A(ִСд)ʾִ֧˺
-	 * ʾݿSQLʽ?nʾ׼ĵn
+	 * info值有以下3种情况： 为null，表示与标准函数一样 为N/A(不区分大小写)，表示不支持此函数
+	 * 否则表示数据库SQL表达式，以?n表示标准函数的第n个参数；
 	 */
 
 	public String getInfo(int dbType) {
@@ -1,13 +1,13 @@
 package com.scudata.dm.sql;
 
 /**
- * ׼Ϣ(׼+Ψһ)
+ * 标准函数信息(标准函数名+参数个数唯一)
  * @author RunQian
  *
  */
 public class FunInfo implements Comparable<FunInfo> {
-	private String name; // ׼
-	private int pcount; // -1ʾ
+	private String name; // 标准函数名
+	private int pcount; // 参数个数，-1表示不定参数个数
 
 	public FunInfo() {
 	}
@@ -45,7 +45,7 @@ public class FunInfo implements Comparable<FunInfo> {
 		}
 	}
 
-	// mapkey
+	// 用作map的key
 	public int compareTo(FunInfo o) {
 		FunInfo funInfo = (FunInfo)o;
 		int cmp = name.compareToIgnoreCase(funInfo.name);
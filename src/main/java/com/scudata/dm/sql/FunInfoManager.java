@@ -18,15 +18,15 @@ import com.scudata.common.Logger;
 import com.scudata.common.RQException;
 import com.scudata.dm.sql.simple.IFunction;
 
-//Ϣ(ϢʱƼ)
-//***δݿⲻͬ汾еĺ
-//***̶ֻԤȶ
+//函数信息管理器(函数信息增加时按名称及参数个数排序)
+//***暂未考虑数据库不同版本中的函数差异
+//***参数个数不固定的只能预先定义好
 public class FunInfoManager {
-	public static final int COVER = 0; // 
+	public static final int COVER = 0; // 覆盖
 
-	public static final int SKIP = 1; // 
+	public static final int SKIP = 1; // 忽略
 
-	public static final int ERROR = 2; // 
+	public static final int ERROR = 2; // 报错
 
 	private static TreeMap<FunInfo, FunInfo> funMap = new TreeMap<FunInfo, FunInfo>(); // [FunInfo-FunInfo]
 
@@ -34,7 +34,7 @@ public class FunInfoManager {
 	//<dbtype<name<paramcount:value>>>
 	public static Map<String, Map<String, Map<Integer, String>>> dbMap = new HashMap<String,Map<String, Map<Integer, String>>>();
 
-	static { // Զغļ
+	static { // 自动加载函数文件
 		try {
 			InputStream in = FunInfoManager.class.getResourceAsStream("/com/scudata/dm/sql/function.xml");
 			addFrom(in, COVER);
@@ -66,7 +66,7 @@ public class FunInfoManager {
 		return (FixedParamFunInfo)funMap.get(key);
 	}
 	
-	// ݱ׼ҺϢ޾ȷƥʱƥ-1
+	// 根据标准函数名称与参数个数查找函数信息，参数个数无精确匹配时可匹配-1
 	public static FunInfo getFunInfo(String name, int pcount) {
 		FunInfo key = new FunInfo(name, pcount);
 		FunInfo val = funMap.get(key);
@@ -79,12 +79,12 @@ public class FunInfoManager {
 		}
 	}
 
-	// úϢ֤+Ψһ
+	// 设置函数信息，保证（函数名+参数个数）唯一
 	public  static void setFunInfo(FunInfo fi) {
 		funMap.put(fi, fi);
 	}
 
-	// xmlļӺϢsameModeָͬһʱĴʽ
+	// 从xml文件中增加函数信息，sameMode指已有同一函数时的处理方式
 	private static void addFrom(InputStream in, int sameMode) {
 		if (in == null) {
 			return;
@@ -223,7 +223,7 @@ public class FunInfoManager {
 		return null;
 	}
 
-	// Ϣ
+	// 清除函数信息
 	public static void clear() {
 		funMap.clear();
 	}
@@ -266,7 +266,7 @@ public class FunInfoManager {
 				}
 				else if(formula.equalsIgnoreCase("N/A"))
 				{
-					throw new RQException("˺ϵͳݲ֧:"+name);
+					throw new RQException("此函数系统暂不支持:"+name);
 				}
 				else if(count == 1)
 				{
@@ -291,13 +291,13 @@ public class FunInfoManager {
 					} 
 					catch (Exception e) 
 					{
-						throw new RQException("طǹ̶ĺԶʱִ", e);
+						throw new RQException("加载非固定参数个数的函数的自定义类时出现错误", e);
 					}
 				}
 			}
 //			if(exp == null)
 //			{
-//				throw new RQException("δ֪ĺ, :"+name+", :"+params.length);
+//				throw new RQException("未知的函数定义, 名称:"+name+", 参数个数:"+params.length);
 //			}
 		}
 
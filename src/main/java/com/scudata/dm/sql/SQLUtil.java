@@ -10,7 +10,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ڴsql.sqlparsesql.sqltranslate
+ * 用于处理sql.sqlparse、sql.sqltranslate函数
  * @author RunQian
  *
  */
@@ -69,7 +69,7 @@ public final class SQLUtil {
 		return len;
 	}
 	
-	// ()ʼλ
+	// 搜索()，起始位置是左括号
 	public static int scanParen(Token []tokens, int start, final int next) {
 		int deep = 0;
 		for (int i = start + 1; i < next; ++i) {
@@ -96,7 +96,7 @@ public final class SQLUtil {
 	}
 	
 	/**
-	 * SQLĸַس
+	 * 拆分SQL的各个部分返回成序列
 	 * @param sql
 	 * @return Sequence
 	 */
@@ -425,10 +425,10 @@ public final class SQLUtil {
 	}
 	
 	/**
-	 * 滻sqlָ
-	 * @param sql SQL
-	 * @param replacement Ҫ滻ɵ
-	 * @param option ѡָ滻Щ
+	 * 替换sql的指定部分
+	 * @param sql SQL语句
+	 * @param replacement 要替换成的内容
+	 * @param option 选项，指定替换哪些部分
 	 * @return
 	 */
 	public static String replace(String sql, String replacement, String option) {
@@ -443,9 +443,9 @@ public final class SQLUtil {
 		
 		Token []tokens = Tokenizer.parse(sql);
 		int count = tokens.length;
-		String keyWord; // ؼֶƣԴsqlûⲿҪ¼
-		int keyPos = -1; // ؼֵλãreplacementΪɾⲿ
-		int start = -1; // ؼֺݵλ
+		String keyWord; // 关键字段名称，如果源sql中没有这部分则需要新加
+		int keyPos = -1; // 关键字的位置，如果replacement为空则删除这部分
+		int start = -1; // 关键字后内容的位置
 		int end = -1;
 		
 		if (option.indexOf('s') != -1) {
@@ -542,7 +542,7 @@ public final class SQLUtil {
 				return sql.substring(0, endPos) + keyWord + ' ' + replacement + sql.substring(endPos - 1);
 			}
 		} else if (start == count) {
-			// ֻйؼֺû
+			// 只有关键字后面没内容
 			if (replacement.length() == 0) {
 				int startPos = tokens[keyPos].getPos();
 				return sql.substring(0, startPos);
@@ -564,8 +564,8 @@ public final class SQLUtil {
 		}
 	}
 	
-	// ߼SQLSQLtopͺ
-	// DBTypesﶨݿͳ
+	// 把逻辑SQL翻译成物理SQL，包括top和函数
+	// DBTypes里定义了数据库类型常量
 	public static String translate(String sql, String dbType) {
 		Token []tokens = Tokenizer.parse(sql);
 		int count = tokens.length;
@@ -589,7 +589,7 @@ public final class SQLUtil {
 					}
 				}
 			} else if (token.isKeyWord("TOP")) {
-				// TODOݿתӦ﷨
+				// TODO：根据数据库类型转换成相应的语法
 				if (tokens[i + 1].getType() == Tokenizer.NUMBER) {
 					if ("ORACLE".endsWith(dbType) || "DB2".endsWith(dbType) || "MYSQL".endsWith(dbType)
 							 || "HSQL".endsWith(dbType) || "POSTGRES".endsWith(dbType) || "HIVE".endsWith(dbType)
@@ -639,7 +639,7 @@ public final class SQLUtil {
 		return sb.toString();
 	}
 	
-	// end
+	// end不包括
 	private static String translate(String sql, Token []tokens, int start, int end, String dbType) {
 		StringBuffer sb = new StringBuffer();
 		int prevPos = tokens[start].getPos();
@@ -668,7 +668,7 @@ public final class SQLUtil {
 		}
 	}
 	
-	// f(), f(p1,...) next')'λ
+	// f(), f(p1,...) next是')'的位置
 	private static String scanFunction(String sql, Token []tokens, int start, int next, String dbType) {
 		String name = tokens[start].getString();
 
@@ -1,7 +1,7 @@
 package com.scudata.dm.sql;
 
 /**
- * SQLִʺõĴʻ߷
+ * SQL语句分词后得到的词或者符号
  * @author RunQian
  *
  */
@@ -52,8 +52,8 @@ public final class Token {
 		return id.equals(str);
 	}
 
-	// жϱʽڵǷҽڵ
-	// ؼֿұʽ
+	// 判断表达式节点是否可以有右节点
+	// 操作符或操作符关键字可以有右表达式
 	public boolean canHaveRightExp() {
 		if (type == Tokenizer.OPERATOR || type == Tokenizer.DOT) { //type == Tokenizer.TABLEMARK || LEVELMARK
 			return true;
@@ -7,17 +7,17 @@ import com.scudata.common.RQException;
 import com.scudata.resources.EngineMessage;
 
 /**
- * SQLִʴõ
+ * 对SQL语句做分词处理，得到词数组
  * @author RunQian
  *
  */
 public final class Tokenizer {
 	public static final char UNKNOWN = 0;
-	public static final char KEYWORD = 1; // 
-	public static final char IDENT = 2; // ֶΡ
-	public static final char NUMBER = 3; // ֳ
-	public static final char STRING = 4; // ַ
-	public static final char OPERATOR = 5; // +-*/=<>&|^%!
+	public static final char KEYWORD = 1; // 保留字
+	public static final char IDENT = 2; // 表、字段、别名、函数
+	public static final char NUMBER = 3; // 数字常量
+	public static final char STRING = 4; // 字符串常量
+	public static final char OPERATOR = 5; // 运算符+-*/=<>&|^%!
 
 	public static final char LPAREN = '(';
 	public static final char RPAREN = ')';
@@ -26,18 +26,18 @@ public final class Tokenizer {
 	public static final char PARAMMARK = '?';
 	
 
-	private static final String OPSTRING = "+-*/=<>&|^%!~"; // ~λȡ
+	private static final String OPSTRING = "+-*/=<>&|^%!~"; // ~按位取反
 	//private final static String[] GATHERS = {"AVG", "COUNT", "MAX", "MIN", "SUM", "COUNTIF", "COUNTD", "AVGD", "SUMD"};
-	//private final static String[] ں = {"AVG", "COUNT", "MAX", "MIN", "SUM", "RANK", "DENSE_RANK", "ROW_NUMBER"};
+	//private final static String[] 窗口函数 = {"AVG", "COUNT", "MAX", "MIN", "SUM", "RANK", "DENSE_RANK", "ROW_NUMBER"};
 
 	//private final static String[] OPERATORS = {
 	//	"+","-","*","/","=","<","<=","<>","!=",">",">=","%","^","||"
 	//};
 
 	public static final String COL_AS = " "; // " AS "
-	public static final String TABLE_AS = " "; // oracleıܼas
+	public static final String TABLE_AS = " "; // oracle表的别名不能加as
 
-	// ѡбʽпõĹؼ֣жѡıʶǷǱ
+	// 选出列表达式中可以用的关键字，用于判断选出列最后的标识符是否是别名
 	private final static String[] OPKEYWORDS = {"AND", "OR", "LIKE", "NOT"};
 
 	// "BETWEEN","ROWS","CASE","INNER","END","ONLY", "OUTER",
@@ -64,11 +64,11 @@ public final class Tokenizer {
 	};
 
 	/**
-	 * ŵĽλ
-	 * @param tokens SQLִʵõĽ
-	 * @param start ŵλ
-	 * @param next Ľλã
-	 * @return ŵλãҲ׳쳣
+	 * 搜索括号的结束位置
+	 * @param tokens 对SQL语句做分词得到的结果
+	 * @param start 左括号的位置
+	 * @param next 搜索的结束位置，不包含
+	 * @return 右括号的位置，找不到抛出异常
 	 */
 	public static int scanParen(Token []tokens, int start, final int next) {
 		int deep = 0;
@@ -86,18 +86,18 @@ public final class Tokenizer {
 	}
 	
 	/**
-	 * ָΧ
-	 * @param tokens SQLִʵõĽ
-	 * @param start ʼλã
-	 * @param next Ľλã
-	 * @return ŵλãҲ-1
+	 * 在指定范围内搜索逗号
+	 * @param tokens 对SQL语句做分词得到的结果
+	 * @param start 搜索起始位置，包括
+	 * @param next 搜索的结束位置，不包含
+	 * @return 逗号的位置，找不到返回-1
 	 */
 	public static int scanComma(Token []tokens, int start, final int next) {
 		for(int i = start; i < next; ++i) {
 			char type = tokens[i].getType();
 			if(type == COMMA) {
 				return i;
-			} else if(type == LPAREN) { // ()
+			} else if(type == LPAREN) { // 跳过()
 				i = scanParen(tokens, i, next);
 			}
 		}
@@ -133,19 +133,19 @@ public final class Tokenizer {
 	}
 
 	public static boolean isIdentifierStart(char ch) {
-		// sqlserverʱ#
+		// sqlserver临时表不会出现#？
 		return Character.isJavaIdentifierStart(ch); //  || ch == '#'
 	}
 
 	public static boolean isIdentifierPart(char ch) {
-		// sqlserverʱ#
+		// sqlserver临时表不会出现#？
 		return Character.isJavaIdentifierPart(ch); //  || ch == '#'
 	}
 
 	/**
-	 * SQLִʣ˫ڵΪʶ
-	 * @param sql SQL
-	 * @return Token
+	 * 对SQL语句做分词，双引号内的为标识符
+	 * @param sql SQL语句
+	 * @return Token数组
 	 */
 	public static Token[] parse(String sql) {
 		int curIndex = 0;
@@ -156,7 +156,7 @@ public final class Tokenizer {
 			char ch = sql.charAt(curIndex);
 			if (Character.isWhitespace(ch)) {
 				curIndex++;
-			} else if (isIdentifierStart(ch)) { // ʶֶΡ
+			} else if (isIdentifierStart(ch)) { // 标识符、字段、表
 				int next = scanId(sql, curIndex + 1);
 				String id = sql.substring(curIndex, next);
 				String upId = id.toUpperCase();
@@ -169,14 +169,14 @@ public final class Tokenizer {
 				}
 
 				curIndex = next;
-			} else if (Character.isDigit(ch)) { // 
+			} else if (Character.isDigit(ch)) { // 数字
 				int next = scanNumber(sql, curIndex + 1);
 				String id = sql.substring(curIndex, next);
 				Token token = new Token(NUMBER, id, curIndex);
 				tokenList.add(token);
 
 				curIndex = next;
-			} else if (ch == DOT) { // .
+			} else if (ch == DOT) { // .操作符或数字
 				int next = scanNumber(sql, curIndex);
 				String id = sql.substring(curIndex, next);
 				if (next > curIndex + 1) {
@@ -188,7 +188,7 @@ public final class Tokenizer {
 				}
 
 				curIndex = next;
-			} else if (ch == '\'') { // ַ
+			} else if (ch == '\'') { // 字符串
 				int next = scanString(sql, curIndex + 1);
 				if (next < 0) {
 					MessageManager mm = EngineMessage.get();
@@ -200,19 +200,19 @@ public final class Tokenizer {
 				tokenList.add(token);
 
 				curIndex = next;
-			} else if (ch == '"') { // ֶ
+			} else if (ch == '"') { // 表名或字段
 				int next = scanId(sql, curIndex);
 				String id = sql.substring(curIndex, next);
 				Token token = new Token(IDENT, id, curIndex);
 				tokenList.add(token);
 
 				curIndex = next;
-			} else if (ch == PARAMMARK) { // ? ?1 ?2 ...
+			} else if (ch == PARAMMARK) { // ? ?1 ?2 ...参数
 				Token token = new Token(PARAMMARK, "?", curIndex);
 				tokenList.add(token);
 				
 				curIndex++;
-			} else if (OPSTRING.indexOf(ch) != -1) { // 
+			} else if (OPSTRING.indexOf(ch) != -1) { // 运算符
 				String id = sql.substring(curIndex, curIndex + 1);
 				Token token = new Token(OPERATOR, id, curIndex);
 				tokenList.add(token);
@@ -279,7 +279,7 @@ public final class Tokenizer {
 		return start;
 	}
 
-	// 'ss'ַﺬеһĵűʾ 'dd''ff'
+	// 查找'ss'，如果字符串里含有单引号则用两个连一块的单引号表示 'dd''ff'
 	public static int scanString(String command, int start) {
 		int len = command.length();
 		for (; start < len; ++start) {
@@ -11,7 +11,7 @@ public class Coalesce implements IFunction
 		{
 			if(params[i].isEmpty())
 			{
-				throw new RQException("CoalesceΪ");
+				throw new RQException("Coalesce函数参数不能为空");
 			}
 			if(i > 0)
 			{
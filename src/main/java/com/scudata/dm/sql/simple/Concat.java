@@ -11,7 +11,7 @@ public class Concat implements IFunction
 		{
 			if(params[i].isEmpty())
 			{
-				throw new RQException("ConcatΪ");
+				throw new RQException("Concat函数参数不能为空");
 			}
 			if(i > 0)
 			{
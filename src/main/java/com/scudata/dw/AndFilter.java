@@ -6,14 +6,14 @@ import java.math.BigInteger;
 import com.scudata.util.Variant;
 
 /**
- * й
+ * 基于与运算的列过滤器
  * @author runqian
  *
  */
 public class AndFilter extends IFilter {
 	private Number andValue;
 	private Number rightValue;
-	private long longValue = 0; // andValuerightValueҲǴlongValueŻ
+	private long longValue = 0; // 如果andValue等于rightValue并且不是大整数则用longValue优化
 	private int operator;
 
 	/**
@@ -100,8 +100,8 @@ public class AndFilter extends IFilter {
 	}
 
 	/**
-	 * һݵСֵֵжǷзfilter
-	 * עⷵtrueҲֻǱʾзϵ
+	 * 根据一块数据的最小值和最大值判断这块数据里是否可能有符合filter的数据
+	 * 注意返回true也只是表示可能有符合的数据
 	 */
 	public boolean match(Object minValue, Object maxValue) {
 		return true;
@@ -0,0 +1,202 @@
+package com.scudata.dw;
+
+import java.io.IOException;
+
+import com.scudata.array.IArray;
+import com.scudata.dm.BaseRecord;
+import com.scudata.dm.ObjectReader;
+import com.scudata.dm.ObjectWriter;
+
+/**
+ * 列块的过滤信息，记录列块中的空值数和布隆过滤器，在读列块前判断列块中是否可能有要找的值
+ * 布隆过滤器只对成员全是整数、长整数或串的列块建立，整数和长整数按数值计算哈希，
+ * 跟Variant.isEquals一致，列块中有其它类型的值时只记录空值数
+ * @author RunQian
+ *
+ */
+class BlockFilter {
+	private static final int BITS_PER_VALUE = 10; // 每个值占用的位数
+	private static final int HASH_COUNT = 3; // 每个值设置的位数
+	private static final int MIN_BITS = 64;
+
+	private int nullCount; // 空值数，小于0表示不知道
+	private byte []bits; // 布隆过滤器的位数组，空表示没有建立
+
+	private BlockFilter(int nullCount, byte []bits) {
+		this.nullCount = nullCount;
+		this.bits = bits;
+	}
+
+	/**
+	 * 为记录数组的指定列的指定范围建立过滤信息
+	 * @param mems 记录数组
+	 * @param col 列号
+	 * @param start 开始位置，包含
+	 * @param end 结束位置，包含
+	 * @return BlockFilter
+	 */
+	public static BlockFilter create(IArray mems, int col, int start, int end) {
+		int nullCount = 0;
+		boolean canHash = true;
+		for (int i = start; i <= end; ++i) {
+			Object obj = ((BaseRecord)mems.get(i)).getNormalFieldValue(col);
+			if (obj == null) {
+				nullCount++;
+			} else if (canHash && !isHashable(obj)) {
+				canHash = false;
+			}
+		}
+
+		int count = end - start + 1 - nullCount;
+		if (!canHash || count == 0) {
+			return new BlockFilter(nullCount, null);
+		}
+
+		int bitCount = MIN_BITS;
+		while (bitCount < count * BITS_PER_VALUE) {
+			bitCount <<= 1;
+		}
+
+		byte []bits = new byte[bitCount >>> 3];
+		int mask = bitCount - 1;
+		for (int i = start; i <= end; ++i) {
+			Object obj = ((BaseRecord)mems.get(i)).getNormalFieldValue(col);
+			if (obj != null) {
+				long h = hash(obj);
+				int h1 = (int)h;
+				int h2 = (int)(h >>> 32) | 1;
+				for (int k = 0; k < HASH_COUNT; ++k) {
+					int index = (h1 + k * h2) & mask;
+					bits[index >>> 3] |= 1 << (index & 7);
+				}
+			}
+		}
+
+		return new BlockFilter(nullCount, bits);
+	}
+
+	/**
+	 * 返回值是否可以计算布隆过滤器用的哈希值
+	 * @param obj 值
+	 * @return boolean
+	 */
+	static boolean isHashable(Object obj) {
+		return obj instanceof String || obj instanceof Integer || obj instanceof Long;
+	}
+
+	/**
+	 * 计算布隆过滤器用的哈希值，整数和长整数按数值计算
+	 * @param obj 值，需是可计算哈希值的类型
+	 * @return long
+	 */
+	static long hash(Object obj) {
+		long h;
+		if (obj instanceof String) {
+			h = ((String)obj).hashCode() * 0x9E3779B97F4A7C15L + 0x632BE59BD9B4E019L;
+		} else {
+			h = ((Number)obj).longValue();
+		}
+
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	/**
+	 * 返回列块中是否可能有指定的值
+	 * @param value 值
+	 * @return true：可能有，false：一定没有
+	 */
+	public boolean mayContain(Object value) {
+		if (value == null) {
+			return nullCount != 0;
+		} else if (bits == null || !isHashable(value)) {
+			return true;
+		}
+
+		byte []bits = this.bits;
+		int mask = (bits.length << 3) - 1;
+		long h = hash(value);
+		int h1 = (int)h;
+		int h2 = (int)(h >>> 32) | 1;
+		for (int k = 0; k < HASH_COUNT; ++k) {
+			int index = (h1 + k * h2) & mask;
+			if ((bits[index >>> 3] & (1 << (index & 7))) == 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * 返回列块中是否可能有给定值中的某个值
+	 * @param values 值数组
+	 * @return true：可能有，false：一定没有
+	 */
+	public boolean mayContainAny(Object []values) {
+		for (Object value : values) {
+			if (mayContain(value)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * 写出列块的过滤信息
+	 * @param writer 输出
+	 * @param filter 过滤信息，空表示没有
+	 * @throws IOException
+	 */
+	public static void write(ObjectWriter writer, BlockFilter filter) throws IOException {
+		if (filter == null) {
+			writer.writeInt(-1);
+			writer.writeObject(null);
+		} else {
+			writer.writeInt(filter.nullCount);
+			writer.writeObject(filter.bits);
+		}
+	}
+
+	/**
+	 * 读入列块的过滤信息
+	 * @param reader 输入
+	 * @return BlockFilter 没有过滤信息时返回空
+	 * @throws IOException
+	 */
+	public static BlockFilter read(ObjectReader reader) throws IOException {
+		int nullCount = reader.readInt();
+		byte []bits = (byte[])reader.readObject();
+		if (nullCount < 0 && bits == null) {
+			return null;
+		} else {
+			return new BlockFilter(nullCount, bits);
+		}
+	}
+
+	/**
+	 * 跳过一个列块的过滤信息
+	 * @param reader 输入
+	 * @throws IOException
+	 */
+	public static void skip(ObjectReader reader) throws IOException {
+		reader.readInt();
+		reader.skipObject();
+	}
+
+	/**
+	 * 复制一个列块的过滤信息
+	 * @param reader 输入
+	 * @param writer 输出
+	 * @throws IOException
+	 */
+	public static void copy(ObjectReader reader, ObjectWriter writer) throws IOException {
+		writer.writeInt(reader.readInt());
+		writer.writeObject(reader.readObject());
+	}
+}
@@ -3,16 +3,16 @@ package com.scudata.dw;
 import java.io.IOException;
 
 /**
- * 洢
+ * 存储块链类
  * @author runqian
  *
  */
 public class BlockLink {	
 	private static final long EMPTY = 1;
 	private transient IBlockStorage storage;
-	long firstBlockPos = EMPTY; // ׿ļеλ
-	long lastBlockPos; // βļеλãòĿܲ
-	int freeIndex = 0; // ĩеòĿܲ
+	long firstBlockPos = EMPTY; // 区块链首块块在文件中的位置
+	long lastBlockPos; // 区块链尾块在文件中的位置，用不到的可能不设
+	int freeIndex = 0; // 空闲区域在末块中的索引，用不到的可能不设
 	int blockCount;
 	
 	/**
@@ -9,18 +9,19 @@ public class BlockLinkReader extends InputStream {
 	private BlockLink blockLink;
 	private IBlockStorage storage;
 	
-	private final int blockSize; // С
-	private final int pointerPos; // һָڿλ
+	private final int blockSize; // 块大小
+	private final int pointerPos; // 下一块指针在块中位置
 	
 	private long currentBlockPos = Long.MAX_VALUE;
-	private byte []block; // ǰĿ
-	private int caret; // blockеλ
+	private byte []block; // 当前缓存的块
+	private int caret; // 光标在block中的位置
 	
 	private byte[] readBuffer = new byte[32];
 	private LZ4Util lz4 = LZ4Util.instance();
 	private byte []decompressBuffer;
+	private byte []compressBuffer; // 压缩数据跨块时用来拼接压缩数据，每个数据块重复使用
 	
-	private boolean isPureStorage;//°汾Ĵд洢ʽ
+	private boolean isPureStorage;//是新版本的纯列存储格式
 	private Sequence dict;
 	
 	public BlockLinkReader(BlockLink blockLink) {
@@ -116,21 +117,24 @@ public class BlockLinkReader extends InputStream {
 		}
 	}
 	
-	// һݿ鲢ѹ
+	// 读下一数据块并解压，返回的解压缓冲区会被下次读取重用
 	public byte[] readDataBlock() throws IOException {
 		int srcCount = readInt32();
 		if (storage.isCompress()) {
 			int count = readInt32();
 			if (count > 0) {
-				byte []buffer = new byte[count];
-				
-				readFully(buffer, 0, count);
-	
-				if (srcCount > decompressBuffer.length) {
-					decompressBuffer = new byte[srcCount];
+				decompressBuffer = LZ4Util.ensureCapacity(decompressBuffer, srcCount);
+				if (count <= pointerPos - caret) {
+					// 压缩数据都在当前块中，直接从块中解压
+					lz4.decompress(block, caret, decompressBuffer, srcCount);
+					caret += count;
+				} else {
+					byte []buffer = LZ4Util.ensureCapacity(compressBuffer, count);
+					compressBuffer = buffer;
+					readFully(buffer, 0, count);
+					lz4.decompress(buffer, decompressBuffer, srcCount);
 				}
 				
-				lz4.decompress(buffer, decompressBuffer, srcCount);
 				return decompressBuffer;
 			} else {
 				byte []buffer = new byte[srcCount];
@@ -158,13 +162,13 @@ public class BlockLinkReader extends InputStream {
 		caret = (int)(pos - blockPos);
 	}
 	
-	// ָλõݿ鲢ѹ
+	// 读指定位置的数据块并解压
 	public byte[] readDataBlock(long pos) throws IOException {
 		seek(pos);
 		return readDataBlock();
 	}
 	
-	// һλ
+	// 读区块链的下一块的位置
 	private long readPosition(int i) {
 		byte []block = this.block;
 		return (((long)(block[i] & 0xff) << 32) +
@@ -174,7 +178,7 @@ public class BlockLinkReader extends InputStream {
 				(block[i + 4] & 0xff));
 	}
 	
-	// ֽ鷵
+	// 把整个区块链读成字节数组返回
 	public byte[] readBlocks() throws IOException {
 		int blockCount = blockLink.blockCount;
 		if (blockCount > 1) {
@@ -193,28 +197,28 @@ public class BlockLinkReader extends InputStream {
 		}
 	}
 	
-	//ʽα
+	//给行式游标用
 	public BufferReader readBlockData(int recordCount) throws IOException {
 		return getBufferReader(readDataBlock(), recordCount);
 	}
 	
-	//ʽα
+	//给行式游标用
 	public BufferReader readBlockData(long pos, int recordCount) throws IOException {
 		byte[] buffer = readDataBlock(pos);
 		return getBufferReader(buffer, recordCount);
 	}
 	
-	//ʽα
+	//给列式游标用
 	public BufferReader readPureBlockData(int recordCount) throws IOException {
 		return new BufferReader(storage.getStructManager(), readDataBlock());
 	}
 	
-	//ʽα
+	//给列式游标用
 	public BufferReader readPureBlockData(long pos, int recordCount) throws IOException {
 		return new BufferReader(storage.getStructManager(), readDataBlock(pos));
 	}
 	
-	//ʽα
+	//给行式游标用
 	private BufferReader getBufferReader(byte[] buffer, int recordCount) {
 		if (isPureStorage) {
 			if (PureBufferReader.canUseBufferReader(buffer, 0)) {
@@ -229,7 +233,7 @@ public class BlockLinkReader extends InputStream {
 		}
 	}
 	
-	//ѹȡ
+	//不压缩读取
 	public RowBufferReader readBlockBuffer() throws IOException {
 		int count = readInt32();
 		byte []buffer = new byte[count];
@@ -4,16 +4,17 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 public class BlockLinkWriter extends OutputStream {
-	private static final double CompressThreshold = 0.75;//ѹֵ
+	private static final double CompressThreshold = 0.75;//压缩阈值
 	private BlockLink blockLink;
 	private IBlockStorage storage;
 	
-	private final int blockSize; // С
-	private final int pointerPos; // һָڿλ
-	private byte []block; // 
-	private int caret; // ڿеλ
+	private final int blockSize; // 块大小
+	private final int pointerPos; // 下一块指针在块中位置
+	private byte []block; // 块内容
+	private int caret; // 光标在块中的位置
 	
 	private LZ4Util lz4 = LZ4Util.instance();
+	private byte []compressBuffer; // 压缩缓冲区，每个数据块重复使用
 	
 	public BlockLinkWriter(BlockLink blockLink, boolean isAppend) throws IOException {
 		this.blockLink = blockLink;
@@ -37,7 +38,7 @@ public class BlockLinkWriter extends OutputStream {
 		storage.loadBlock(blockLink.lastBlockPos, block);
 	}
 	
-	// ׷дҪôκдĲҪ
+	// 追加写的需要调用次函数，重写的不需要调用
 	public void finishWrite() throws IOException {
 		blockLink.freeIndex = caret;
 		storage.saveBlock(blockLink.lastBlockPos, block);
@@ -47,7 +48,7 @@ public class BlockLinkWriter extends OutputStream {
 		long nextBlock = storage.applyNewBlock();
 		writePointer(pointerPos, nextBlock);
 		storage.saveBlock(blockLink.lastBlockPos, block);
-		writePointer(pointerPos, 0);//Ҫclear
+		writePointer(pointerPos, 0);//这里要clear
 		blockLink.appendBlock(nextBlock);
 		caret = 0;
 	}
@@ -84,12 +85,13 @@ public class BlockLinkWriter extends OutputStream {
 		}
 	}
 	
-	// ׷Ӳѹݿ飬дλ
+	// 追加并压缩数据块，返回写入位置
 	public long writeDataBlock(byte[] bytes) throws IOException {
 		int srcCount = bytes.length;
 		if (storage.isCompress()) {
-			byte []buffer = lz4.compress(bytes);
-			int count = lz4.getCount();
+			byte []buffer = LZ4Util.ensureCapacity(compressBuffer, lz4.maxCompressedLength(srcCount));
+			compressBuffer = buffer;
+			int count = lz4.compress(bytes, buffer);
 			long pos = blockLink.lastBlockPos + caret;
 			
 			if (((double)count / srcCount) < CompressThreshold) {
@@ -123,7 +125,7 @@ public class BlockLinkWriter extends OutputStream {
 		return pos;
 	}
 	
-	// һλ
+	// 读区块链的下一块的位置
 	private long readPointer(int i) {
 		byte []block = this.block;
 		return (((long)(block[i] & 0xff) << 32) +
@@ -133,7 +135,7 @@ public class BlockLinkWriter extends OutputStream {
 				(block[i + 4] & 0xff));
 	}
 	
-	// дһλ
+	// 写区块链的下一块的位置
 	private void writePointer(int i, long pos) {
 		byte []block = this.block;
 		block[i++] = (byte)(pos >>> 32);
@@ -143,7 +145,7 @@ public class BlockLinkWriter extends OutputStream {
 		block[i++] = (byte)(pos >>>  0);
 	}
 	
-	// д
+	// 重写区块链
 	public void rewriteBlocks(byte[] bytes) throws IOException {
 		int len = bytes.length;
 		int oldBlockCount = blockLink.blockCount;
@@ -179,7 +181,7 @@ public class BlockLinkWriter extends OutputStream {
 		}
 	}
 	
-	// ׷ӣѹݿ飬дλ
+	// 追加，不压缩数据块，返回写入位置
 	public long writeDataBuffer(byte[] bytes) throws IOException {
 		int count = bytes.length;
 		long pos = blockLink.lastBlockPos + caret;
@@ -15,21 +15,21 @@ import com.scudata.dm.SerialBytes;
 import com.scudata.dm.Table;
 
 /**
- * дʱĶȡ
+ * 列存时的读取处理类
  * @author runqian
  *
  */
 public class BufferReader {
 	protected StructManager structManager;
-	public byte[] buffer; // ÿζֽڻ
-	public int index; // һֽbufferе
-	public int count; // bufferʵֽĿ
+	public byte[] buffer; // 每次读入的字节缓存
+	public int index; // 下一字节在buffer中的索引
+	public int count; // 读入buffer的实际字节数目
 
 	private byte[] readBuffer = new byte[32];
 	protected char[] charBuffer = new char[128];
 	
-	public Object repeatValue;//ֵͬ
-	public int repeatCount = 0;//ֵͬĸ
+	public Object repeatValue;//连续相同的值
+	public int repeatCount = 0;//连续相同的值的个数
 
 	protected static final String []HEXSTRINGS = new String[] {"0", "1", "2", "3", "4", "5", "6",
 		"7", "8", "9", "A", "B", "C", "D", "E", "F"};
@@ -56,7 +56,7 @@ public class BufferReader {
 		this.count = count;
 	}
 
-	// صǰȡλ
+	// 返回当前读取位置
 	public long position() {
 		return index;
 	}
@@ -192,7 +192,7 @@ public class BufferReader {
 		int b = read2();
 		if (b == BufferWriter.FLOAT16) {
 			int n = readUInt16();
-			int scale = n >>> 14; // λСλ
+			int scale = n >>> 14; // 高两位存小数位数
 			n &= 0x3FFF;
 
 			if (scale == 0) {
@@ -206,7 +206,7 @@ public class BufferReader {
 			}
 		} else if (b == BufferWriter.FLOAT32) {
 			int n = readInt32();
-			int scale = n >>> 30; // λСλ
+			int scale = n >>> 30; // 高两位存小数位数
 			n &= 0x3FFFFFFF;
 
 			if (scale == 0) {
@@ -446,7 +446,7 @@ public class BufferReader {
 			((data[index + 2] & 0xff) << 8) + (data[index + 3] & 0xff);
 	}
 	
-	// 5ֽڱʾlongļСҪ󲻳1T
+	// 5字节表示long，单文件大小要求不超1T
 	public long readLong40() throws IOException {
 		byte []data = this.buffer;
 		int index = this.index;
@@ -458,7 +458,7 @@ public class BufferReader {
 				(data[index + 4] & 0xff));
 	}
 	
-	// 6ֽڱʾlongļСҪ󲻳256T,ھļλݵĶȡ
+	// 6字节表示long，单文件大小要求不超256T,仅用于数据挖掘表，文件定位数据的读取
 	public long readLong48() throws IOException {
 		byte []data = this.buffer;
 		int index = this.index;
@@ -717,7 +717,7 @@ public class BufferReader {
 	}
 	
 	public Object readRepeat(int b) throws IOException {
-		// һֵظȥ1
+		// 返回一个值，重复数减去1
 		int count;
 		if ((b & 0x08) == 0) {
 			count = (b & 0x07) + 1;
@@ -730,7 +730,7 @@ public class BufferReader {
 		return repeatValue;
 	}
 	
-	// ظ0ʾ
+	// 返回重复数，0表示结束
 	public void skipObject() throws IOException {
 		if (repeatCount > 0) {
 			repeatCount--;
@@ -841,7 +841,7 @@ public class BufferReader {
 	}
 	
 	/**
-	 * صǰĻλ
+	 * 返回当前读到的缓冲区的位置
 	 * @return
 	 */
 	public int getCurPos() {
@@ -915,7 +915,7 @@ public class BufferReader {
 			return 0.0;
 		} else if (b == BufferWriter.FLOAT16) {
 			int n = readUInt16();
-			int scale = n >>> 14; // λСλ
+			int scale = n >>> 14; // 高两位存小数位数
 			n &= 0x3FFF;
 
 			if (scale == 0) {
@@ -929,7 +929,7 @@ public class BufferReader {
 			}
 		} else if (b == BufferWriter.FLOAT32) {
 			int n = readInt32();
-			int scale = n >>> 30; // λСλ
+			int scale = n >>> 30; // 高两位存小数位数
 			n &= 0x3FFFFFFF;
 
 			if (scale == 0) {
@@ -1200,7 +1200,7 @@ public class BufferReader {
 	}
 	
 	/**
-	 * ȡһarrayָλ
+	 * 读取一个对象到array的指定位置
 	 * @param array
 	 * @param index
 	 * @return
@@ -1216,7 +1216,7 @@ public class BufferReader {
 	}
 	
 	/**
-	 * ݿͻһ
+	 * 根据块类型获得一个数组
 	 * @param count
 	 * @return
 	 */
@@ -41,18 +41,18 @@ public class BufferWriter {
 	static final int RECORD = 0x25;
 	
 	public static final int MARK3 = 0x30;
-	public static final int DATE16 = 0x30; // 2000֮
-	public static final int DATE32 = 0x31; // 2000֮ǰ
+	public static final int DATE16 = 0x30; // 2000年之后的日期
+	public static final int DATE32 = 0x31; // 2000年之前的日期
 	static final int TIME16 = 0x32;
 	static final int TIME17 = 0x33;
 	static final int DATETIME32 = 0x34;
 	static final int DATETIME33 = 0x35;
 	static final int DATETIME64 = 0x36;
 	static final int TIME32 = 0x37;
-	public static final int DATE24 = 0x38; // 2000֮
-	public static final int DATE64 = 0x39; // ʾ˶64λ
+	public static final int DATE24 = 0x38; // 2000年之后的日期
+	public static final int DATE64 = 0x39; // 超界表示不了都得日期用64位保存
 	
-	public static final int SERIALBYTES = 0x40; // ź
+	public static final int SERIALBYTES = 0x40; // 排号
 	public static final int REPEAT3 = 0x70;
 	static final int REPEAT11 = 0x78;
 	static final int MAX_REPEAT3 = 7 + 2;
@@ -75,7 +75,7 @@ public class BufferWriter {
 	public static final double MINFLOAT = 0.000001;
 	private static final int MAX_DIGIT_LEN = 30;
 
-	public static final long BASEDATE; // 1992֮ǰеڲܱ86400000
+	public static final long BASEDATE; // 1992年之前有的日期不能被86400000整除
 	static final long BASETIME;
 	static {
 		java.util.Calendar calendar = java.util.Calendar.getInstance();
@@ -89,7 +89,7 @@ public class BufferWriter {
 
 	static final int INIT_BUFFER_SIZE = 1024 * 64;
 	
-	private byte []buf; // д
+	private byte []buf; // 写缓冲区
 	private int count = 0;
 	private StructManager structManager;
 	
@@ -106,7 +106,7 @@ public class BufferWriter {
 		this.structManager = structManager;
 	}
 
-	// дؽֽ
+	// 结束写，返回结果字节数组
 	public byte[] finish() throws IOException {
 		if (repeatCount > 0) {
 			writeRepeat();
@@ -213,7 +213,7 @@ public class BufferWriter {
 		}
 	}
 
-	// Сڵ32ִ
+	// 长度小于等于32的数字串
 	private boolean isDigit(char []charr, int len) {
 		if (len > MAX_DIGIT_LEN) return false;
 
@@ -224,7 +224,7 @@ public class BufferWriter {
 		return true;
 	}
 
-	// Сڵ32ִ
+	// 长度小于等于32的数字串
 	private void writeDigit(char []charr, int len) throws IOException {
 		if (buf.length - count < MAX_DIGIT_LEN) {
 			enlargeBuffer();
@@ -454,7 +454,7 @@ public class BufferWriter {
 		write(n & 0xFF);
 	}
 
-	// 5ֽڱʾlongļСҪ󲻳1T
+	// 5字节表示long，单文件大小要求不超1T
 	public void writeLong40(long v) throws IOException {
 		if (buf.length - count < 5) {
 			enlargeBuffer();
@@ -470,7 +470,7 @@ public class BufferWriter {
 		count = seq;
 	}
 	
-	/* 6ֽڱʾlongļСҪ󲻳256Tھļλݵı */
+	/* 6字节表示long，单文件大小要求不超256T，仅共数据挖掘表，文件定位数据的保存 */
 	public void writeLong48(long v) throws IOException {
 		if (buf.length - count < 6) {
 			enlargeBuffer();
@@ -565,7 +565,7 @@ public class BufferWriter {
 	private void writeDate(java.sql.Date date) throws IOException {
 		long v = date.getTime();
 		if (v >= BASEDATE) {
-			// ȷ
+			// 精确到天
 			int d = (int)((v - BASEDATE) / 86400000);
 			if (d > 0xFFFF) {
 				if (d > 0xFFFFFF) {
@@ -583,7 +583,7 @@ public class BufferWriter {
 				write(d & 0xFF);
 			}
 		} else {
-			// ȷ
+			// 精确到秒
 			long d = (BASEDATE - v) / 1000;
 			if (d > 0xFFFFFFFFL) {
 				write(DATE64);
@@ -716,7 +716,7 @@ public class BufferWriter {
 			writeBytes((byte[])obj);
 		} else if (obj instanceof SerialBytes) {
 			SerialBytes sb = (SerialBytes)obj;
-			// ȹ̶16
+			// 长度固定是16
 			write(SERIALBYTES);
 			writeLong64(sb.getValue1());
 			writeLong64(sb.getValue2());
@@ -734,13 +734,13 @@ public class BufferWriter {
 	}
 	
 	/**
-	 * д󣬴˷жǷһֵظܺwriteãwriteObjectҪȵflush
+	 * 写入对象，此方法会判断是否跟上一个值重复，不能和其它的write方法混着用，如果调用完了writeObject后想调用其它方法需要先调用flush方法
 	 * @param obj
 	 * @throws IOException
 	 */
 	public void writeObject(Object obj) throws IOException {
 		if (repeatCount > 0) {
-			// жϣֹ00.0ȵһ
+			// 增加类型判断，防止0和0.0等当成了一个对象
 			if (Variant.isEquals(repeatValue, obj) && 
 					(obj == null || obj.getClass() == repeatValue.getClass())) {
 				repeatCount++;
@@ -764,13 +764,13 @@ public class BufferWriter {
 		}
 	}
 	
-	//С˷ʽдShort
+	//小端方式写入Short
 	public void writeLittleEndianShort(int v) throws IOException {
 		write((v >>> 0) & 0xFF);
 		write((v >>> 8) & 0xFF);
 	}
 	
-	//С˷ʽдint
+	//小端方式写入int
 	public void writeLittleEndianInt(int n) throws IOException {
 		write(n & 0xFF);
 		write((n >>>  8) & 0xFF);
@@ -778,7 +778,7 @@ public class BufferWriter {
 		write(n >>> 24);
 	}
 	
-	//С˷ʽдLong
+	//小端方式写入Long
 	public void writeLittleEndianLong(long v) throws IOException {
 		if (buf.length - count < 8) {
 			enlargeBuffer();
@@ -14,14 +14,14 @@ import com.scudata.dm.Env;
 import com.scudata.resources.EngineMessage;
 
 /**
- * д
+ * 列存组表类
  * @author runqian
  *
  */
 public class ColComTable extends ComTable {
 
 	/**
-	 * Ѿڵ
+	 * 打开已经存在的组表
 	 * @param file
 	 * @param ctx
 	 * @throws IOException
@@ -36,7 +36,7 @@ public class ColComTable extends ComTable {
 	}
 	
 	/**
-	 * Ѿڵ,־ڲʹ
+	 * 打开已经存在的组表,不检查出错日志，仅内部使用
 	 * @param file
 	 * @throws IOException
 	 */
@@ -47,12 +47,12 @@ public class ColComTable extends ComTable {
 	}
 			
 	/**
-	 * 
-	 * @param file ļ
-	 * @param colNames 
-	 * @param distribute ֲʽ
-	 * @param opt uѹݣpһֶηֶ
-	 * @param ctx 
+	 * 创建组表
+	 * @param file 表文件
+	 * @param colNames 列名称
+	 * @param distribute 分布表达式
+	 * @param opt u：不压缩数据，p：按第一字段分段
+	 * @param ctx 上下文
 	 * @throws IOException
 	 */
 	public ColComTable(File file, String []colNames, String distribute, String opt, Context ctx) 
@@ -60,7 +60,7 @@ public class ColComTable extends ComTable {
 		file.delete();
 		File parent = file.getParentFile();
 		if (parent != null) {
-			// Ŀ¼Ŀ¼RandomAccessFile쳣
+			// 创建目录，否则如果目录不存在RandomAccessFile会抛异常
 			parent.mkdirs();
 		}
 		
@@ -71,7 +71,7 @@ public class ColComTable extends ComTable {
 			ctx.addResource(this);
 		}
 		
-		// Ƿѹ
+		// 是否压缩
 		if (opt != null && opt.indexOf('u') != -1) {
 			setCompress(false);
 		}
@@ -84,7 +84,7 @@ public class ColComTable extends ComTable {
 		baseTable = new ColPhyTable(this, colNames);
 		structManager = new StructManager();
 		
-		// һֶηֶ
+		// 按第一字段分段
 		if (opt != null && opt.indexOf('p') != -1) {
 			baseTable.segmentCol = baseTable.getColName(0);
 		}
@@ -95,9 +95,9 @@ public class ColComTable extends ComTable {
 	}
 	
 	/**
-	 * srcĽṹһļ
-	 * @param file ±ļ
-	 * @param src ԭ
+	 * 复制src的结构创建一个新组表文件
+	 * @param file 新表的文件
+	 * @param src 原组表
 	 * @throws IOException
 	 */
 	public ColComTable(File file, ColComTable src) throws IOException {
@@ -130,11 +130,11 @@ public class ColComTable extends ComTable {
 	}
 	
 	/**
-	 * ´ļ޸
+	 * 重新打开组表，文件被其它对象修改
 	 * @throws IOException
 	 */
 	protected void reopen() throws IOException {
-		// дļͷʱ֧ͬͬʱд
+		// 读写文件头时做同步以支持同时读写
 		raf = new RandomAccessFile(file, "rw");
 		Object syncObj = getSyncObject();
 		synchronized(syncObj) {
@@ -171,7 +171,7 @@ public class ColComTable extends ComTable {
 			blockSize = reader.readInt32();
 			headerBlockLink.readExternal(reader);
 			
-			reader.read(reserve); // λ
+			reader.read(reserve); // 保留位
 			freePos = reader.readLong40();
 			fileSize = reader.readLong40();
 			
@@ -205,11 +205,11 @@ public class ColComTable extends ComTable {
 	}
 	
 	/**
-	 * ȡļͷ
-	 * ޸ĶдʱҪͬ޸reopen
+	 * 读取文件头
+	 * 修改读写时需要同步修改reopen函数
 	 */
 	protected void readHeader() throws IOException {
-		// дļͷʱ֧ͬͬʱд
+		// 读写文件头时做同步以支持同时读写
 		Object syncObj = getSyncObject();
 		synchronized(syncObj) {
 			//restoreTransaction();
@@ -245,7 +245,7 @@ public class ColComTable extends ComTable {
 			blockSize = reader.readInt32();
 			headerBlockLink.readExternal(reader);
 			
-			reader.read(reserve); // λ
+			reader.read(reserve); // 保留位
 			freePos = reader.readLong40();
 			fileSize = reader.readLong40();
 			
@@ -279,16 +279,16 @@ public class ColComTable extends ComTable {
 	}
 	
 	/**
-	 * дļͷ
+	 * 写文件头
 	 */
 	protected void writeHeader() throws IOException {
-		//дͰ汾ļ
+		//不能写低版本的文件
 		if (reserve[0] < 4) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException(mm.getMessage("dw.oldVersion2"));
 		}
 		
-		// дļͷʱ֧ͬͬʱд
+		// 读写文件头时做同步以支持同时读写
 		Object syncObj = getSyncObject();
 		synchronized(syncObj) {
 			beginTransaction(null);
@@ -304,17 +304,17 @@ public class ColComTable extends ComTable {
 			writer.writeInt32(blockSize);
 			headerBlockLink.writeExternal(writer);
 			
-			reserve[0] = 4; // 1룬2ӷֲ3Ԥ飬4ʽ洢ֵͣȣ
-			writer.write(reserve); // λ
+			reserve[0] = 4; // 1增加密码，2增加分布函数，3增加预分组，4列式存储（数据类型，字典等）
+			writer.write(reserve); // 保留位
 			
 			writer.writeLong40(freePos);
 			writer.writeLong40(fileSize);
 			
-			// Ա汾1ӵ
+			// 下面两个成员版本1增加的
 			writer.writeString(writePswHash);
 			writer.writeString(readPswHash);
 			
-			writer.writeString(distribute); // 汾2
+			writer.writeString(distribute); // 版本2增加
 			
 			ArrayList<DataStruct> dsList = structManager.getStructList();
 			if (dsList != null) {
@@ -334,7 +334,7 @@ public class ColComTable extends ComTable {
 			headerWriter.close();
 			//headerWriter.finishWrite();
 			
-			// дheaderBlockLink
+			// 重写headerBlockLink
 			writer.write('r');
 			writer.write('q');
 			writer.write('d');
@@ -353,7 +353,7 @@ public class ColComTable extends ComTable {
 	}
 	
 	/**
-	 * Ϣ,headerͲ
+	 * 获得区块链信息,不包含组表header和补区
 	 */
 	public long[] getBlockLinkInfo() {
 		LongArray info = new LongArray(1024);
@@ -378,7 +378,7 @@ public class ColComTable extends ComTable {
 			info.add(segmentBlockLink.lastBlockPos);
 			info.add(segmentBlockLink.freeIndex);
 			info.add(segmentBlockLink.blockCount);
-			// block link
+			//导列 block link
 			((ColPhyTable) table).getGuideColumn().getBlockLinkInfo(info);
 			//columns block link
 			columns = ((ColPhyTable) table).getColumns();
@@ -40,25 +40,25 @@ import com.scudata.thread.ThreadPool;
 import com.scudata.util.Variant;
 
 /**
- * д
+ * 列存基表类
  * @author runqian
  *
  */
 public class ColPhyTable extends PhyTable {
 	private transient ColumnMetaData []columns;
-	private transient ColumnMetaData []allColumns; //
-	private transient ColumnMetaData []sortedColumns; // ֶ
-	private transient ColumnMetaData []allSortedColumns; // ֶκ
+	private transient ColumnMetaData []allColumns; //含主表
+	private transient ColumnMetaData []sortedColumns; // 排序字段
+	private transient ColumnMetaData []allSortedColumns; // 排序字段含主表
 	
-	private transient String []allKeyColNames; // ֶ飨
+	private transient String []allKeyColNames; // 主键字段名数组（含主表）
 	
-	private transient ColumnMetaData guideColumn;//
-	protected int sortedColStartIndex;//ֶθ
+	private transient ColumnMetaData guideColumn;//导列
+	protected int sortedColStartIndex;//主表的排序字段个数
 	
 	private static final String GUIDE_COLNAME = "_guidecol";
 
 	/**
-	 * л
+	 * 用于序列化
 	 * @param groupTable
 	 */
 	public ColPhyTable(ComTable groupTable) {
@@ -69,7 +69,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * л
+	 * 用于序列化
 	 * @param groupTable
 	 * @param parent
 	 */
@@ -82,7 +82,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ´һ
+	 * 用于新创建一个基表
 	 * @param groupTable
 	 * @param colNames
 	 * @param serialBytesLen
@@ -97,9 +97,9 @@ public class ColPhyTable extends PhyTable {
 		
 		int count = colNames.length;
 		columns = new ColumnMetaData[count];
-		int keyStart = -1; // ʼֶ
+		int keyStart = -1; // 主键的起始字段
 		
-		// ʼֶǰֶΪֶ
+		// 主键起始字段前面的字段认为是排序字段
 		for (int i = 0; i < count; ++i) {
 			if (colNames[i].startsWith(KEY_PREFIX)) {
 				keyStart = i;
@@ -130,7 +130,7 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * ´һ
+	 * 用于新创建一个基表
 	 * @param groupTable
 	 * @param colNames
 	 * @param serialBytesLen
@@ -160,12 +160,12 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * Ĵ
-	 * @param groupTable Ҫ
-	 * @param colNames 
-	 * @param serialBytesLen źų
-	 * @param tableName 
-	 * @param parent 
+	 * 附表的创建
+	 * @param groupTable 要创建附表的组表
+	 * @param colNames 列名称
+	 * @param serialBytesLen 排号长度
+	 * @param tableName 附表名
+	 * @param parent 主表对象
 	 * @throws IOException
 	 */
 	public ColPhyTable(ComTable groupTable, String []colNames, int []serialBytesLen,
@@ -197,7 +197,7 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		if (parent != null) {
-			//Ŀǰֻһ
+			//目前限制只依附一层
 			if (parent.parent != null) {
 				MessageManager mm = EngineMessage.get();
 				throw new RQException(mm.getMessage("ds.dsNotMatch"));
@@ -211,7 +211,7 @@ public class ColPhyTable extends PhyTable {
 				collist.add(name);
 			}
 			
-			//ֶβֶظ
+			//字段不能与主表字段重复
 			for (int i = 0, len = colNames.length; i < len; i++) {
 				if (collist.contains(colNames[i])) {
 					MessageManager mm = EngineMessage.get();
@@ -231,10 +231,10 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * srcһͬĻ
-	 * @param groupTable Ҫ
-	 * @param parent 
-	 * @param src ṩṹԴ
+	 * 根据src创建一个同构的基表
+	 * @param groupTable 要创建基表的组表
+	 * @param parent 主表对象
+	 * @param src 提供结构的源基表
 	 * @throws IOException
 	 */
 	public ColPhyTable(ComTable groupTable, ColPhyTable parent, ColPhyTable src) throws IOException {
@@ -277,7 +277,7 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * ʼȡάȻϢ
+	 * 初始化，读取维、列名等基本信息
 	 */
 	protected void init() {
 		ColumnMetaData []columns = this.columns;
@@ -285,7 +285,7 @@ public class ColPhyTable extends PhyTable {
 		int keyCount = 0;
 		int j = 0;
 		
-		// 飬ļʱӰ쵽Ĵ
+		// 创建新数组，否则文件组时可能影响到其它分区组表的创建
 		colNames = new String[columns.length];
 		for (ColumnMetaData col : columns) {
 			if (col.isDim()) {
@@ -316,7 +316,7 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		if (parent != null) {
-			// ϲ
+			// 合并父表的主键
 			String []parentKeys = parent.getAllKeyColNames();
 			if (keyCount > 0) {
 				int parentKeyCount = parentKeys.length;
@@ -367,7 +367,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * СkeyУ
+	 * 返回所有列。（含主表key列）
 	 * @return
 	 */
 	public ColumnMetaData[] getAllColumns() {
@@ -376,7 +376,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * Сֶ)
+	 * 返回所有列。（含主表所有字段)
 	 * @return
 	 */
 	ColumnMetaData[] getTotalColumns() {
@@ -390,7 +390,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ơֶ)
+	 * 返回所有列名称。（含主表所有字段)
 	 * @return
 	 */
 	public String[] getTotalColNames() {
@@ -404,7 +404,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * 
+	 * 返回有序列
 	 * @return
 	 */
 	public ColumnMetaData[] getSortedColumns() {
@@ -412,7 +412,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * У)
+	 * 返回有序列（含主表)
 	 * @return
 	 */
 	public ColumnMetaData[] getAllSortedColumns() {
@@ -421,7 +421,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * 
+	 * 返回有序列名
 	 * @return
 	 */
 	public String[] getSortedColNames() {
@@ -435,7 +435,7 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * )
+	 * 返回有序列名（含主表)
 	 * @return
 	 */
 	public String[] getAllSortedColNames() {
@@ -450,16 +450,16 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取主键字段名（含主表）
+	 * @return 主键字段名数组
 	 */
 	public String[] getAllKeyColNames() {
 		return allKeyColNames;
 	}
 	
 	/**
-	 * ֶָ
-	 * @param fields ֶ
+	 * 根据字段名返回指定列
+	 * @param fields 字段名
 	 * @return
 	 */
 	public ColumnMetaData[] getColumns(String []fields) {
@@ -490,7 +490,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ÿźŵĳȣźеĻ
+	 * 返回每列排号的长度（如果是排号列的话）
 	 */
 	public int[] getSerialBytesLen() {
 		int len = columns.length;
@@ -502,7 +502,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ȡexp漰
+	 * 提取exp里涉及的列
 	 * @param exps
 	 * @return
 	 */
@@ -535,7 +535,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ȡexpҪ(k.sbs() k1+k2)
+	 * 提取exp里需要计算的列(k.sbs() k1+k2)
 	 * @param exps
 	 * @return
 	 */
@@ -608,7 +608,7 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * ֶ
+	 * 根据字段名获得列
 	 * @param field
 	 * @return
 	 */
@@ -624,7 +624,7 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * ظĵ
+	 * 返回附表的导列
 	 * @return
 	 */
 	public ColumnMetaData getGuideColumn() {
@@ -632,7 +632,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * һռ
+	 * 申请第一块空间
 	 */
 	protected void applyFirstBlock() throws IOException {
 		if (segmentBlockLink.isEmpty()) {
@@ -654,8 +654,8 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ׼д׷ӡɾ޸ǰá
-	 * úԹؼϢбݣֹдһʱ
+	 * 准备写。在追加、删除、修改数据前调用。
+	 * 调用后会对关键信息进行备份，防止写一般出意外时表数据损坏
 	 */
 	protected void prepareAppend() throws IOException {
 		applyFirstBlock();
@@ -670,7 +670,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * д
+	 * 结束写
 	 */
 	protected void finishAppend() throws IOException {
 		segmentWriter.finishWrite();
@@ -688,7 +688,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ȡͷ
+	 * 读取表头数据
 	 */
 	public void readExternal(BufferReader reader) throws IOException {
 		reader.read(reserve);
@@ -741,7 +741,7 @@ public class ColPhyTable extends PhyTable {
 		}
 
 		if (groupTable.reserve[0] > 2) {
-			cuboids = reader.readStrings();//汾3
+			cuboids = reader.readStrings();//版本3增加
 		}
 		segmentCol = (String)reader.readObject();
 		segmentSerialLen = reader.readInt();
@@ -757,10 +757,10 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * дͷ
+	 * 写出表头数据
 	 */
 	public void writeExternal(BufferWriter writer) throws IOException {
-		reserve[0] = 5;
+		reserve[0] = 6; // 6增加列块过滤信息
 		writer.write(reserve);
 		writer.writeUTF(tableName);
 		writer.writeStrings(colNames);
@@ -806,7 +806,7 @@ public class ColPhyTable extends PhyTable {
 			}
 		}
 
-		writer.writeStrings(cuboids);//汾3
+		writer.writeStrings(cuboids);//版本3增加
 		
 		writer.writeObject(segmentCol);
 		writer.flush();
@@ -821,18 +821,18 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ׷Ӹһ
+	 * 追加附表的一块数据
 	 * @param data
-	 * @param start ʼ
-	 * @param recList 
+	 * @param start 开始的列
+	 * @param recList 导列数据
 	 * @throws IOException
 	 */
 	private void appendAttachedDataBlock(Sequence data, boolean []isMyCol, LongArray recList) throws IOException {
 		ColumnMetaData []columns = this.allColumns;
 		int count = columns.length;
 
-		Object []minValues = new Object[count];;//һСάֵ
-		Object []maxValues = new Object[count];;//һάֵ
+		Object []minValues = new Object[count];;//一块的最小维值
+		Object []maxValues = new Object[count];;//一块的最大维值
 		Object []startValues = new Object[count];
 		int[] dataTypeInfo = new int[count];
 				
@@ -844,14 +844,14 @@ public class ColPhyTable extends PhyTable {
 		
 		int end = data.length();
 		try {
-			//д
+			//写导列
 			bufferWriter.write(DataBlockType.LONG);
 			for (int i = 1; i <= end; ++i) {
 				bufferWriter.writeLong(recList.getLong(i));
 			}
 			bufferWriter.writeBoolean(false);
 			
-			//д
+			//写数据列任务
 			for (int i = 0; i < count; i++) {
 				if (!isMyCol[i])
 					continue;
@@ -870,7 +870,7 @@ public class ColPhyTable extends PhyTable {
 			pool.shutdown();
 		}
 		
-		//ͳ
+		//统计列数据类型
 		for (int j = 0; j < count; j++) {
 			if (!isMyCol[j]) continue;
 			columns[j].adjustDataType(dataTypeInfo[j]);
@@ -878,7 +878,7 @@ public class ColPhyTable extends PhyTable {
 		}
 
 		if (recList.size() == 0) {
-			//ǿտ飬дһnull
+			//如果是空块，则各列写一个null
 			bufferWriter.writeObject(null);
 			for (int j = 0; j < count; j++) {
 				if (!isMyCol[j]) continue;
@@ -888,21 +888,27 @@ public class ColPhyTable extends PhyTable {
 		
 		guideColumn.appendColBlock(bufferWriter.finish());
 
-		//ύÿпbuffer
+		//提交每个列块buffer
+		IArray mems = data.getMems();
 		for (int j = 0; j < count; j++) {
 			if (!isMyCol[j]) continue;
-			columns[j].appendColBlock(bufferWriters[j].finish(), minValues[j], maxValues[j], startValues[j]);
+			BlockFilter blockFilter = null;
+			if (columns[j].hasBlockFilter()) {
+				blockFilter = BlockFilter.create(mems, j, 1, end);
+			}
+			
+			columns[j].appendColBlock(bufferWriters[j].finish(), minValues[j], maxValues[j], startValues[j], blockFilter);
 		}
 		
-		//·ֶϢbuffer
+		//更新分段信息buffer
 		appendSegmentBlock(end);
 	}
 	
 	/**
-	 * ׷Ӹһ(ɸʽ)
+	 * 追加附表的一块数据(旧格式)
 	 * @param data
-	 * @param start ʼ
-	 * @param recList 
+	 * @param start 开始的列
+	 * @param recList 导列数据
 	 * @throws IOException
 	 */
 	public void appendAttachedDataBlockV3(Sequence data, boolean []isMyCol, LongArray recList) throws IOException {
@@ -910,8 +916,8 @@ public class ColPhyTable extends PhyTable {
 		ColumnMetaData []columns = this.allColumns;
 		int count = columns.length;
 		int []serialBytesLen = new int[count];
-		Object []minValues = null;//һСάֵ
-		Object []maxValues = null;//һάֵ
+		Object []minValues = null;//一块的最小维值
+		Object []maxValues = null;//一块的最大维值
 		Object []startValues = null;
 		
 		if (sortedColumns != null) {
@@ -930,12 +936,12 @@ public class ColPhyTable extends PhyTable {
 		
 		int end = data.length();
 		for (int i = 1; i <= end; ++i) {
-			//д
+			//写导列
 			bufferWriter.writeObject(recList.get(i - 1));
 			
 			r = (BaseRecord) data.get(i);
 			Object[] vals = r.getFieldValues();
-			//һдеbuffer
+			//把一条写到各列的buffer
 			for (int j = 0; j < count; j++) {
 				if (!isMyCol[j]) continue;
 				Object obj = vals[j];
@@ -963,7 +969,7 @@ public class ColPhyTable extends PhyTable {
 						maxValues[j] = obj;
 					if (i == 1)
 					{
-						minValues[j] = obj;//һҪֵΪnullʾС
+						minValues[j] = obj;//第一个要赋值，因为null表示最小
 						startValues[j] = obj;
 					}
 					if (Variant.compare(obj, minValues[j], true) < 0)
@@ -973,7 +979,7 @@ public class ColPhyTable extends PhyTable {
 		}
 
 		if (recList.size() == 0) {
-			//ǿտ飬дһnull
+			//如果是空块，则各列写一个null
 			bufferWriter.writeObject(null);
 			for (int j = 0; j < count; j++) {
 				if (!isMyCol[j]) continue;
@@ -984,44 +990,44 @@ public class ColPhyTable extends PhyTable {
 		guideColumn.appendColBlock(bufferWriter.finish());
 		
 		if (sortedColumns == null) {
-			//ύÿпbuffer
+			//提交每个列块buffer
 			for (int j = 0; j < count; j++) {
 				if (!isMyCol[j]) continue;
 				columns[j].appendColBlock(bufferWriters[j].finish());
 			}
-			//·ֶϢbuffer
+			//更新分段信息buffer
 			appendSegmentBlock(end);
 			return;
 		}
 
-		//ύÿпbuffer
+		//提交每个列块buffer
 		for (int j = 0; j < count; j++) {
 			if (!isMyCol[j]) continue;
 			if (!columns[j].isDim()) {
-				//׷п
+				//追加列块
 				columns[j].appendColBlock(bufferWriters[j].finish());
 			} else {
-				//׷ά
+				//追加维块
 				columns[j].appendColBlock(bufferWriters[j].finish(), minValues[j], maxValues[j], startValues[j]);
 			}
 		}
 		
-		//·ֶϢbuffer
+		//更新分段信息buffer
 		appendSegmentBlock(end);
 	}
 	
 	/**
-	 * dataеָΧд(¸ʽ)
-	 * @param data 
-	 * @param start ʼλ
-	 * @param end λ
+	 * 把data序列的指定范围的数据写出(新格式)
+	 * @param data 数据序列
+	 * @param start 开始位置
+	 * @param end 结束位置
 	 * @throws IOException
 	 */
 	private void appendDataBlock(Sequence data, int start, int end) throws IOException {
 		ColumnMetaData []columns = this.columns;
 		int count = columns.length;
-		Object []minValues = new Object[count];//һСάֵ
-		Object []maxValues = new Object[count];//һάֵ
+		Object []minValues = new Object[count];//一块的最小维值
+		Object []maxValues = new Object[count];//一块的最大维值
 		Object []startValues = new Object[count];
 		int[] dataTypeInfo = new int[count];
 
@@ -1045,26 +1051,32 @@ public class ColPhyTable extends PhyTable {
 			pool.shutdown();
 		}
 		
-		//ͳ
+		//统计列数据类型
 		for (int j = 0; j < count; j++) {
 			columns[j].adjustDataType(dataTypeInfo[j]);
 			columns[j].initDictArray();
 		}
 		
-		//ύÿпbuffer
+		//提交每个列块buffer
+		IArray mems = data.getMems();
 		for (int j = 0; j < count; j++) {
-			columns[j].appendColBlock(bufferWriters[j].finish(), minValues[j], maxValues[j], startValues[j]);
+			BlockFilter blockFilter = null;
+			if (columns[j].hasBlockFilter()) {
+				blockFilter = BlockFilter.create(mems, j, start, end);
+			}
+			
+			columns[j].appendColBlock(bufferWriters[j].finish(), minValues[j], maxValues[j], startValues[j], blockFilter);
 		}
 		
-		//·ֶϢbuffer
+		//更新分段信息buffer
 		appendSegmentBlock(end - start + 1);
 	}
 	
 	/**
-	 * dataеָΧд(ɸʽ)
-	 * @param data 
-	 * @param start ʼλ
-	 * @param end λ
+	 * 把data序列的指定范围的数据写出(旧格式)
+	 * @param data 数据序列
+	 * @param start 开始位置
+	 * @param end 结束位置
 	 * @throws IOException
 	 */
 	public void appendDataBlockV3(Sequence data, int start, int end) throws IOException {
@@ -1072,8 +1084,8 @@ public class ColPhyTable extends PhyTable {
 		ColumnMetaData []columns = this.columns;
 		int count = columns.length;
 		int []serialBytesLen = new int[count];
-		Object []minValues = null;//һСάֵ
-		Object []maxValues = null;//һάֵ
+		Object []minValues = null;//一块的最小维值
+		Object []maxValues = null;//一块的最大维值
 		Object []startValues = null;
 		
 		if (sortedColumns != null) {
@@ -1094,7 +1106,7 @@ public class ColPhyTable extends PhyTable {
 			mems.set(i, null);
 			
 			Object[] vals = r.getFieldValues();
-			//һдеbuffer
+			//把一条写到各列的buffer
 			for (int j = 0; j < count; j++) {
 				Object obj = vals[j];
 				if (serialBytesLen[j] > 0) {
@@ -1115,7 +1127,7 @@ public class ColPhyTable extends PhyTable {
 					if (Variant.compare(obj, maxValues[j], true) > 0)
 						maxValues[j] = obj;
 					if (i == start) {
-						minValues[j] = obj;//һҪֵΪnullʾС
+						minValues[j] = obj;//第一个要赋值，因为null表示最小
 						startValues[j] = obj;
 					}
 					if (Variant.compare(obj, minValues[j], true) < 0)
@@ -1125,32 +1137,32 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		if (sortedColumns == null) {
-			//ύÿпbuffer
+			//提交每个列块buffer
 			for (int j = 0; j < count; j++) {
 				columns[j].appendColBlock(bufferWriters[j].finish());
 			}
-			//·ֶϢbuffer
+			//更新分段信息buffer
 			appendSegmentBlock(end - start + 1);
 			return;
 		}
 
-		//ύÿпbuffer
+		//提交每个列块buffer
 		for (int j = 0; j < count; j++) {
 			if (!columns[j].isDim()) {
-				//׷п
+				//追加列块
 				columns[j].appendColBlock(bufferWriters[j].finish());
 			} else {
-				//׷ά
+				//追加维块
 				columns[j].appendColBlock(bufferWriters[j].finish(), minValues[j], maxValues[j], startValues[j]);
 			}
 		}
 		
-		//·ֶϢbuffer
+		//更新分段信息buffer
 		appendSegmentBlock(end - start + 1);
 	}
 	
 	/**
-	 * αд
+	 * 把游标的数据写出
 	 * @param cursor
 	 * @throws IOException
 	 */
@@ -1163,14 +1175,14 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * αд 
+	 * 把游标的数据写出 （附表）
 	 * @param cursor
 	 * @throws IOException
 	 */
 	private void appendAttached(ICursor cursor) throws IOException {
 		PhyTable primaryTable = parent;
-		int pBlockCount = primaryTable.getDataBlockCount();//ܿ
-		int curBlockCount = dataBlockCount;//Ҫ׷ӵĿʼ
+		int pBlockCount = primaryTable.getDataBlockCount();//主表的已有总块数
+		int curBlockCount = dataBlockCount;//要追加的开始块号
 		int pkeyEndIndex = sortedColStartIndex;
 		
 		String []primaryTableKeys = primaryTable.getSortedColNames();
@@ -1204,7 +1216,7 @@ public class ColPhyTable extends PhyTable {
 		
 		int sortedColCount = allSortedColumns.length;
 		Object []tableMaxValues = this.maxValues;
-		Object []lastValues = new Object[sortedColCount];//һάֵ
+		Object []lastValues = new Object[sortedColCount];//上一条维的值
 		
 		LongArray guideCol = new LongArray(MIN_BLOCK_RECORD_COUNT);
 		Sequence seq = new Sequence(MIN_BLOCK_RECORD_COUNT);
@@ -1221,7 +1233,7 @@ public class ColPhyTable extends PhyTable {
 					vals[f] = r.getNormalFieldValue(findex[f]);
 				}
 				
-				//ұӦļ¼
+				//找本条和主键对应的记录
 				while (true) {
 					int cmp = Variant.compareArrays(curPkeyVals, vals, pkeyEndIndex);
 					if (cmp == 0) {
@@ -1229,16 +1241,16 @@ public class ColPhyTable extends PhyTable {
 					} else if (cmp < 0) {
 						pkeyIndex++;
 						if (pkeyIndex > pkeyDataLen) {
-							//ע⣺ʱпseqûм¼Ҫ׷һտ
-							//һ˾ύһ
+							//注意：这时有可能seq里没有记录，这就要追加一个空块
+							//处理完一段了就提交一块
 							appendAttachedDataBlock(seq, isMyCol, guideCol);
 							seq.clear();
 							guideCol = new LongArray(MIN_BLOCK_RECORD_COUNT);
 							
-							//ȡһ
+							//取下一段主键数据
 							curBlockCount++;
 							if (curBlockCount >= pBlockCount) {
-								//ȡˣﲻӦûݣ쳣
+								//主表取到最后了，附表里不应该还有数据，抛异常
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(mm.getMessage("dw.appendNotMatch") + r.toString(null));
 							}
@@ -1251,21 +1263,21 @@ public class ColPhyTable extends PhyTable {
 						curPkey = (ComTableRecord) pkeyData.get(pkeyIndex);
 						curPkeyVals = curPkey.getFieldValues();
 					} else if (cmp > 0) {
-						//ûҵӦ¼쳣
+						//没找到对应的主表记录，抛异常
 						MessageManager mm = EngineMessage.get();
 						throw new RQException(mm.getMessage("dw.appendNotMatch") + r.toString(null));
 					}
 				}
 				
-				//ȷҪ׷һ
-				guideCol.add(curPkey.getRecordSeq());//ӵ
+				//到了这里就确定要追加一条了
+				guideCol.add(curPkey.getRecordSeq());//添加导列
 				
-				//
+				//处理主键和排序
 				if (isSorted) {
 					if (tableMaxValues != null) {
 						int cmp = Variant.compareArrays(vals, tableMaxValues, sortedColCount);
 						if (cmp < 0) {
-							//׷ӵݱ
+							//附表追加的数据必须有序
 							MessageManager mm = EngineMessage.get();
 							throw new RQException(mm.getMessage("dw.appendAttachedTable"));
 						} else if (cmp == 0){
@@ -1279,13 +1291,13 @@ public class ColPhyTable extends PhyTable {
 					}
 				}
 				
-				seq.add(r);//ݴ				
-				System.arraycopy(vals, 0, lastValues, 0, sortedColCount);//һάֵ				
+				seq.add(r);//把这条暂存				
+				System.arraycopy(vals, 0, lastValues, 0, sortedColCount);//存上一条维值				
 			}
 			data = cursor.fetch(ICursor.FETCHCOUNT);
 		}
 		
-		//һп (ȡˣﻹеĻͲ)
+		//处理最后一个列块 (即附表取到最后了，主表里还有的话，就不管了)
 		if (seq.length() > 0) {
 			appendAttachedDataBlock(seq, isMyCol, guideCol);
 		}
@@ -1293,7 +1305,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * αддʱҪзֶΡ
+	 * 把游标的数据写出。写出时需要进行分段。
 	 * @param cursor
 	 * @throws IOException
 	 */
@@ -1317,8 +1329,8 @@ public class ColPhyTable extends PhyTable {
 		if (segmentSerialLen == 0 || segmentSerialLen > serialBytesLen) {
 			segmentSerialLen = serialBytesLen;
 		}
-		Object []lastValues = new Object[cmpLen];//һάֵ
-		Object []curValues = new Object[cmpLen];//ǰάֵ
+		Object []lastValues = new Object[cmpLen];//上一条维的值
+		Object []curValues = new Object[cmpLen];//当前条维的值
 		
 		Sequence seq = new Sequence(MIN_BLOCK_RECORD_COUNT);
 		Sequence data = cursor.fetch(ICursor.FETCHCOUNT);
@@ -1334,7 +1346,7 @@ public class ColPhyTable extends PhyTable {
 					vals[f] = r.getNormalFieldValue(findex[f]);
 				}
 
-				//жǷһп
+				//这里判断是否够一个列块了
 				if (recCount >= MIN_BLOCK_RECORD_COUNT){
 					System.arraycopy(vals, 0, curValues, 0, cmpLen);
 					if (0 != Variant.compareArrays(lastValues, curValues, cmpLen)) {
@@ -1344,7 +1356,7 @@ public class ColPhyTable extends PhyTable {
 					}
 				}
 				
-				//
+				//处理主键和排序
 				if (isSorted) {
 					if (tableMaxValues != null) {
 						int cmp = Variant.compareArrays(vals, tableMaxValues, sortedColCount);
@@ -1362,20 +1374,20 @@ public class ColPhyTable extends PhyTable {
 						System.arraycopy(vals, 0, tableMaxValues, 0, sortedColCount);
 					}
 					if (tableList.size() > 0 && !hasPrimaryKey) {
-						//ڸʱ׷ӵݱΨһ
+						//存在附表时，主表追加的数据必须有序唯一
 						MessageManager mm = EngineMessage.get();
 						throw new RQException(mm.getMessage("dw.appendPrimaryTable"));
 					}
 				}
 				
-				seq.add(r);//ݴ
+				seq.add(r);//把这条暂存
 				System.arraycopy(vals, 0, lastValues, 0, cmpLen);
 				recCount++;
 			}
 			data = cursor.fetch(ICursor.FETCHCOUNT);
 		}
 		
-		//һп
+		//处理最后一个列块
 		if (seq.length() > 0) {
 			appendDataBlock(seq, 1, seq.length());
 		}
@@ -1383,7 +1395,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * αддʱҪжǷά
+	 * 把游标的数据写出。写出时需要判断数据是否对维有序。
 	 * @param cursor
 	 * @throws IOException
 	 */
@@ -1391,7 +1403,7 @@ public class ColPhyTable extends PhyTable {
 		int recCount = 0;
 		int sortedColCount = sortedColumns.length;
 		Object []tableMaxValues = this.maxValues;
-		Object []lastValues = new Object[sortedColCount];//һάֵ
+		Object []lastValues = new Object[sortedColCount];//上一条维的值
 		
 		Sequence seq = new Sequence(MIN_BLOCK_RECORD_COUNT);
 		Sequence data = cursor.fetch(ICursor.FETCHCOUNT);
@@ -1407,9 +1419,9 @@ public class ColPhyTable extends PhyTable {
 					vals[f] = r.getNormalFieldValue(findex[f]);
 				}
 
-				//жǷһп
+				//这里判断是否够一个列块了
 				if (recCount >= MAX_BLOCK_RECORD_COUNT) {
-					//ʱύһ
+					//这时提交一半
 					appendDataBlock(seq, 1, MAX_BLOCK_RECORD_COUNT/2);
 					seq = (Sequence) seq.get(MAX_BLOCK_RECORD_COUNT/2 + 1, seq.length() + 1);
 					recCount = seq.length(); 
@@ -1435,7 +1447,7 @@ public class ColPhyTable extends PhyTable {
 					}
 				}
 				
-				//
+				//处理主键和排序
 				if (isSorted) {
 					if (tableMaxValues != null) {
 						int cmp = Variant.compareArrays(vals, tableMaxValues, sortedColCount);
@@ -1451,7 +1463,7 @@ public class ColPhyTable extends PhyTable {
 							System.arraycopy(vals, 0, tableMaxValues, 0, sortedColCount);
 						}
 						if (tableList.size() > 0 && !hasPrimaryKey) {
-							//ڸʱ׷ӵݱΨһ
+							//存在附表时，主表追加的数据必须有序唯一
 							MessageManager mm = EngineMessage.get();
 							throw new RQException(mm.getMessage("dw.appendPrimaryTable"));
 						}
@@ -1461,14 +1473,14 @@ public class ColPhyTable extends PhyTable {
 					}
 				}
 				
-				seq.add(r);//ݴ				
-				System.arraycopy(vals, 0, lastValues, 0, sortedColCount);//һάֵ				
+				seq.add(r);//把这条暂存				
+				System.arraycopy(vals, 0, lastValues, 0, sortedColCount);//存上一条维值				
 				recCount++;
 			}
 			data = cursor.fetch(ICursor.FETCHCOUNT);
 		}
 		
-		//һп
+		//处理最后一个列块
 		if (seq.length() > 0) {
 			appendDataBlock(seq, 1, seq.length());
 		}
@@ -1476,18 +1488,18 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	private void mergeAppend(ICursor cursor, String opt) throws IOException {
-		// ִ֧鲢׷
+		// 不支持带附表的组表归并追加
 		if (!isSingleTable()) {
 			throw new RQException("'append@m' is unimplemented in annex table!");
 		}
 		
-		// ݽṹǷ
+		// 检查数据结构是否兼容
 		Sequence data = cursor.peek(ICursor.FETCHCOUNT);		
 		if (data == null || data.length() <= 0) {
 			return;
 		}
 		
-		//жϽṹƥ
+		//判断结构匹配
 		DataStruct ds = data.dataStruct();
 		if (ds == null) {
 			MessageManager mm = EngineMessage.get();
@@ -1508,7 +1520,7 @@ public class ColPhyTable extends PhyTable {
 			}
 		}
 		
-		// 鲢ȱ浽ʱļ
+		// 归并读的数据先保存到临时文件
 		ColComTable groupTable = (ColComTable)getGroupTable();
 		File srcFile = groupTable.getFile();
 		File tmpFile = File.createTempFile("tmpdata", "", srcFile.getParentFile());
@@ -1526,13 +1538,13 @@ public class ColPhyTable extends PhyTable {
 				mergeExps[i] = new Expression(sortedColumns[i].getColName());
 			}
 			
-			// 鲢
+			// 做归并
 			Cursor srcCursor = new Cursor(this);
 			ICursor []cursors = new ICursor[]{srcCursor, cursor};
 			MergesCursor mergeCursor = new MergesCursor(cursors, mergeExps, ctx);
 			String[] indexNames = baseTable.indexNames;
 			String[] cuboids = baseTable.cuboids;
-			baseTable.deleteIndex(null);//ʱļҪappendʱindexcuboid
+			baseTable.deleteIndex(null);//临时文件不需要在append时处理index和cuboid
 			baseTable.deleteCuboid(null);
 			baseTable.append(mergeCursor);
 			baseTable.appendCache();
@@ -1541,12 +1553,12 @@ public class ColPhyTable extends PhyTable {
 			tmpGroupTable.save();
 			baseTable.close();
 			
-			// رղɾļʱļΪļ
+			// 关闭并删除组表文件，把临时文件重命名为组表文件名
 			groupTable.raf.close();
 			groupTable.file.delete();
 			tmpFile.renameTo(groupTable.file);
 			
-			// ´
+			// 重新打开组表
 			groupTable.reopen();
 			groupTable.baseTable.resetIndex(ctx);
 			groupTable.baseTable.resetCuboid(ctx);
@@ -1560,7 +1572,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * Թ鲢ʽ׷(ݲ֧и)
+	 * 以归并方式追加(暂不支持有附表的情况)
 	 */
 	public void append(ICursor cursor, String opt) throws IOException {
 		if (isSorted && opt != null) {
@@ -1599,18 +1611,18 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * ׷αݵ
+	 * 追加游标的数据到组表
 	 * @param cursor
 	 */
 	public void append(ICursor cursor) throws IOException {
 		getGroupTable().checkWritable();
 		
-		// ûάֶȡGroupTable.MIN_BLOCK_RECORD_COUNT¼
-		// 3άֶd1d2d3άֶεֵȡMIN_BLOCK_RECORD_COUNT¼
-		// [d1,d2,d3]Ҫ[d1,d2]ֵͬĸ֮Ҫ[d1,d2,d3]ֵͬĲ
-		// ͬĳMAX_BLOCK_RECORD_COUNTMAX_BLOCK_RECORD_COUNT / 2Ϊһ
-		// ÿһедBufferWriterȻfinishõֽ飬ٵcompressѹݣдColumnMetaData
-		// άֶʱҪmaxValueshasPrimaryKeyԱhasPrimaryKeyΪfalseٸ
+		// 如果没有维字段则取GroupTable.MIN_BLOCK_RECORD_COUNT条记录
+		// 否则假设有3个维字段d1、d2、d3，根据维字段的值取出至少MIN_BLOCK_RECORD_COUNT条记录
+		// 如果[d1,d2,d3]是主键则不要把[d1,d2]值相同的给拆到两个块里，反之不要把[d1,d2,d3]值相同的拆到两个块里
+		// 如果相同的超过了MAX_BLOCK_RECORD_COUNT，则以MAX_BLOCK_RECORD_COUNT / 2条为一块
+		// 把每一列的数据写到BufferWriter然后调用finish得到字节数组，再调用compress压缩数据，最后写进ColumnMetaData
+		// 有维字段时要更新maxValues、hasPrimaryKey两个成员，如果hasPrimaryKey为false则不再更新
 		if (cursor == null) {
 			return;
 		}
@@ -1620,7 +1632,7 @@ public class ColPhyTable extends PhyTable {
 			return;
 		}
 		
-		//жϽṹƥ
+		//判断结构匹配
 		DataStruct ds = data.dataStruct();
 		if (ds == null) {
 			MessageManager mm = EngineMessage.get();
@@ -1641,7 +1653,7 @@ public class ColPhyTable extends PhyTable {
 			}
 		}
 		
-		//αݲ1
+		//如果游标数据不足1块
 		if (data.length() < MIN_BLOCK_RECORD_COUNT) {
 			if (appendCache == null) {
 				appendCache = data;
@@ -1656,7 +1668,7 @@ public class ColPhyTable extends PhyTable {
 			return;
 		}
 		
-		//л
+		//如果有缓存数据
 		if (appendCache != null) {
 			ICursor []cursorArray = new ICursor[2];
 			cursorArray[0] = new MemoryCursor(appendCache);
@@ -1665,7 +1677,7 @@ public class ColPhyTable extends PhyTable {
 			appendCache = null;
 		}
 		
-		// ׼д
+		// 准备写数据
 		prepareAppend();
 		
 		if (parent != null) {
@@ -1679,18 +1691,18 @@ public class ColPhyTable extends PhyTable {
 			appendSegment(cursor);
 		}
 		
-		// дݣ浽ļ
+		// 结束写数据，保存到文件
 		finishAppend();
 	}
 	
 	protected void appendSegmentBlock(int recordCount) throws IOException {
-		dataBlockCount++;//ݿ
-		totalRecordCount += recordCount;//ܼ¼
+		dataBlockCount++;//数据块
+		totalRecordCount += recordCount;//总记录数
 		segmentWriter.writeInt32(recordCount);//
 	}
 	
 	/**
-	 * ȡֶιȼ
+	 * 取字段过滤优先级
 	 * @param col
 	 * @return
 	 */
@@ -1710,7 +1722,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * α
+	 * 返回这个基表的游标
 	 */
 	public ICursor cursor() {
 		ComTable groupTable = getGroupTable();
@@ -1733,13 +1745,13 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * α
-	 * @param exps ȡֶαʽexpsΪnullʱfieldsȡ
-	 * @param fields ȡֶε
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param ctx 
+	 * 返回这个基表的游标
+	 * @param exps 取出字段表达式（当exps为null时按照fields取出）
+	 * @param fields 取出字段的新名称
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param ctx 上下文
 	 */
 	public ICursor cursor(Expression []exps, String []fields, Expression filter, 
 			String []fkNames, Sequence []codes, String []opts, Context ctx) {
@@ -1788,14 +1800,14 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * Ķ·α
-	 * @param exps ȡֶαʽexpsΪnullʱfieldsȡ
-	 * @param fields ȡֶε
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param pathCount ·
-	 * @param ctx 
+	 * 返回这个基表的多路游标
+	 * @param exps 取出字段表达式，（当exps为null时按照fields取出）
+	 * @param fields 取出字段的新名称
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param pathCount 路数
+	 * @param ctx 上下文
 	 */
 	public ICursor cursor(Expression []exps, String []fields, Expression filter, String []fkNames, 
 			Sequence []codes, String []opts, int pathCount, Context ctx) {
@@ -1813,8 +1825,8 @@ public class ColPhyTable extends PhyTable {
 			}
 		}
 		
-		// άֶΣҳ˱ʽйڵһά
-		// õһά˳Ŀٲֳɶ·α
+		// 如果是主表并且有维字段，则找出过滤表达式中关于第一个维的条件
+		// 用第一个维的条件过滤出满足条件的块再拆分成多路游标
 		IFilter dimFilter = null;
 		if (filter != null && parent == null && getSortedColumns() != null) {
 			dimFilter = getFirstDimFilter(filter, ctx);
@@ -1828,7 +1840,7 @@ public class ColPhyTable extends PhyTable {
 				pathCount = blockCount;
 			}
 			
-			// ǰĿÿζһ
+			// 前面的块每段多一块
 			int mod = blockCount % pathCount;
 			cursors = new ICursor[pathCount];
 			int start = 0;
@@ -1839,7 +1851,7 @@ public class ColPhyTable extends PhyTable {
 				}
 				
 				if (filter != null) {
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 				}
 				
@@ -1883,10 +1895,10 @@ public class ColPhyTable extends PhyTable {
 			
 			int avg = blockCount / pathCount;
 			if (avg < 1) {
-				// ÿβһ
+				// 每段不足一块
 				cursors = new ICursor[blockCount];
 				for (int i = 0; i < blockCount; ++i) {
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 					Cursor cursor = new Cursor(this, exps, fields, filter, fkNames, codes, opts, ctx);
 					int b = list.getInt(i);
@@ -1894,7 +1906,7 @@ public class ColPhyTable extends PhyTable {
 					cursors[i] = cursor;
 				}
 			} else {
-				// ǰĿÿζһ
+				// 前面的块每段多一块
 				int mod = blockCount % pathCount;
 				cursors = new ICursor[pathCount];
 				int start = 0;
@@ -1904,7 +1916,7 @@ public class ColPhyTable extends PhyTable {
 						end++;
 					}
 					
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 					Cursor cursor = new Cursor(this, exps, fields, filter, fkNames, codes, opts, ctx);
 					cursor.setSegment(list.getInt(start), list.getInt(end - 1) + 1);
@@ -1930,22 +1942,22 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * طֶα꣬ѻΪsegCountΣصsegSeqε
-	 * @param exps ȡֶαʽexpsΪnullʱfieldsȡ
-	 * @param fields ȡֶε
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param segSeq ڼ
-	 * @param segCount  ֶ
-	 * @param ctx 
+	 * 返回分段游标，把基表分为segCount段，返回第segSeq段的数据
+	 * @param exps 取出字段表达式，（当exps为null时按照fields取出）
+	 * @param fields 取出字段的新名称
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param segSeq 第几段
+	 * @param segCount  分段数
+	 * @param ctx 上下文
 	 */
 	public ICursor cursor(Expression []exps, String []fields, Expression filter, String []fkNames, 
 			Sequence []codes, String []opts, int segSeq, int segCount, Context ctx) {
 		getGroupTable().checkReadable();
 		
 		if (filter != null) {
-			// ֶβжȡʱҪƱʽͬһʽֲ֧
+			// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 			filter = filter.newExpression(ctx);
 		}
 		
@@ -1963,7 +1975,7 @@ public class ColPhyTable extends PhyTable {
 		int avg = dataBlockCount / segCount;
 		
 		if (avg < 1) {
-			// ÿβһ
+			// 每段不足一块
 			if (segSeq <= dataBlockCount) {
 				startBlock = segSeq - 1;
 				endBlock = segSeq;
@@ -1973,7 +1985,7 @@ public class ColPhyTable extends PhyTable {
 				endBlock = segSeq * avg;
 				startBlock = endBlock - avg;
 				
-				// ʣĿÿζһ
+				// 剩余的块后面的每段多一块
 				int mod = dataBlockCount % segCount;
 				int n = mod - (segCount - segSeq);
 				if (n > 0) {
@@ -1990,7 +2002,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	public static Sequence fetchToValue(IDWCursor cursor, String []names, Object []vals) {
-		// ֻȡһļ¼һûľͷ
+		// 只取第一块的记录，如果第一块没有满足条件的就返回
 		Sequence seq = cursor.getStartBlockData(ICursor.FETCHCOUNT);
 		if (seq == null || seq.length() == 0) {
 			return null;
@@ -2047,15 +2059,15 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ݶ·αmcsһֶͬεĶ·α
-	 * @param exps ȡֶαʽexpsΪnullʱfieldsȡ
-	 * @param fields ȡֶε
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param mcs ·α
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 根据多路游标mcs，返回一个同步分段的多路游标
+	 * @param exps 取出字段表达式，（当exps为null时按照fields取出）
+	 * @param fields 取出字段的新名称
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param mcs 多路游标
+	 * @param opt 选项
+	 * @param ctx 上下文
 	 */
 	public ICursor cursor(Expression []exps, String []fields, Expression filter, String []fkNames, 
 			Sequence []codes,  String []opts, MultipathCursors mcs, String opt, Context ctx) {
@@ -2082,7 +2094,7 @@ public class ColPhyTable extends PhyTable {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException(mm.getMessage("dw.segFieldNotMatch"));
 		} else if (opt != null && opt.indexOf('k') != -1) {
-			// kѡֶΪֶֶͬ
+			// 有k选项是以首字段做为同步分段字段
 			fcount = 1;
 		}
 		
@@ -2100,9 +2112,9 @@ public class ColPhyTable extends PhyTable {
 		int blockCount = getDataBlockCount();
 		ICursor []cursors = new ICursor[segCount];
 		int startBlock = 0;
-		int currentBlock = 0; // ǰСֵĿ
+		int currentBlock = 0; // 当前读的最小值的块
 		
-		// ҪͷαĶӦǰα
+		// 需要掐头的游标的对应的前面的游标的序号
 		int []appendSegs = new int[segCount];
 		for (int s = 0; s < segCount; ++s) {
 			appendSegs[s] = -1;
@@ -2122,7 +2134,7 @@ public class ColPhyTable extends PhyTable {
 			Next:
 			for (int s = 0; s < segCount; ++s) {
 				if (filter != null) {
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 				}
 				
@@ -2207,7 +2219,7 @@ public class ColPhyTable extends PhyTable {
 		}
 	}
 
-	// вļʱݸ
+	// 有补文件时的数据更新
 	private Sequence update(PhyTable stmd, Sequence data, String opt) throws IOException {
 		boolean isUpdate = true, isInsert = true, isSave = true;
 		Sequence result = null;
@@ -2237,7 +2249,7 @@ public class ColPhyTable extends PhyTable {
 			throw new RQException(mm.getMessage("engine.dsNotMatch"));
 		}
 		
-		// Ըݽ
+		// 对更新数据进行排序
 		data.sortFields(getAllSortedColNames());
 		appendCache();
 		
@@ -2255,7 +2267,7 @@ public class ColPhyTable extends PhyTable {
 		boolean isPrimaryTable = parent == null;
 		int len = data.length();
 		long []seqs = new long[len + 1];
-		int []block = new int[len + 1];//Ƿһεĵײinsert(ӱ)
+		int []block = new int[len + 1];//是否在一个段的底部insert(子表)
 		long []recNum = null;
 		int []temp = new int[1];
 		
@@ -2279,7 +2291,7 @@ public class ColPhyTable extends PhyTable {
 				}
 			}
 		} else {
-			recNum  = new long[len + 1];//ӱӦαţ0ʾ
+			recNum  = new long[len + 1];//子表对应到主表的伪号，0表示在主表补区
 			ColPhyTable baseTable = (ColPhyTable) this.groupTable.baseTable;
 			RecordSeqSearcher baseSearcher = new RecordSeqSearcher(baseTable);
 			RecordSeqSearcher2 searcher = new RecordSeqSearcher2(this);
@@ -2290,17 +2302,17 @@ public class ColPhyTable extends PhyTable {
 					seqs[i] = searcher.findNext(r.getFieldValue(k), temp);
 					block[i] = temp[0];
 					if (seqs[i] < 0) {
-						//ǲ룬ҪжһǷ
+						//如果是插入，要判断一下是否在主表的列区
 						long seq = baseSearcher.findNext(r.getFieldValue(k));
 						if (seq > 0) {
 							recNum[i] = seq;
 						} else {
 							if (baseSearcher.isEnd()) {
-								//ӱݱ
+								//子表插入的数据必须在主表
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));	
 							}
-							recNum[i] = 0;//ᴦ
+							recNum[i] = 0;//如果在主表补区，下面会处理
 						}
 					} else {
 						recNum[i] = searcher.getRecNum();
@@ -2323,17 +2335,17 @@ public class ColPhyTable extends PhyTable {
 					seqs[i] = searcher.findNext(keyValues, temp);
 					block[i] = temp[0];
 					if (seqs[i] < 0 || block[i] > 0) {
-						//ǲ룬ҪжһǷ
+						//如果是插入，要判断一下是否在主表的列区
 						long seq = baseSearcher.findNext(baseKeyValues);
 						if (seq > 0) {
 							recNum[i] = seq;
 						} else {
 							if (baseSearcher.isEnd()) {
-								//ӱݱ
+								//子表插入的数据必须在主表
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));	
 							}
-							recNum[i] = 0;//ᴦ
+							recNum[i] = 0;//如果在主表补区，下面会处理
 						}
 					} else {
 						recNum[i] = searcher.getRecNum();
@@ -2342,7 +2354,7 @@ public class ColPhyTable extends PhyTable {
 			}
 		}
 		
-		// Ҫĵappend׷
+		// 需要在最后插入的调用append追加
 		Sequence append = new Sequence();
 		ArrayList<ModifyRecord> modifyRecords = getModifyRecords();
 		boolean needUpdateSubTable = false;
@@ -2385,7 +2397,7 @@ public class ColPhyTable extends PhyTable {
 						} else {
 							if ((mr.getState() == ModifyRecord.STATE_UPDATE && isUpdate) || 
 									(mr.getState() == ModifyRecord.STATE_DELETE && isInsert)) {
-								// ״̬update
+								// 状态都用update
 								BaseRecord sr = (BaseRecord)data.getMem(t);
 								mr.setRecord(sr.toRecord(), ModifyRecord.STATE_UPDATE);
 								if (result != null) {
@@ -2474,7 +2486,7 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		if (!isPrimaryTable) {
-			//ӱҪ޸
+			//子表补区最后要根据主表补区修改
 			update(parent.getModifyRecords());
 			
 			for (ModifyRecord r : modifyRecords) {
@@ -2482,7 +2494,7 @@ public class ColPhyTable extends PhyTable {
 					if (r.getParentRecordSeq() == 0) {
 						this.modifyRecords = null;
 						this.modifyRecords = getModifyRecords();
-						//ӱݱ
+						//子表插入的数据必须在主表
 						MessageManager mm = EngineMessage.get();
 						throw new RQException(r.getRecord().toString(null) + mm.getMessage("grouptable.invalidData"));
 					}
@@ -2496,7 +2508,7 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		if (isPrimaryTable && needUpdateSubTable) {
-			//insertͱӱ
+			//主表有insert，就必须更新所有子表补区
 			ArrayList<PhyTable> tableList = getTableList();
 			for (int i = 0, size = tableList.size(); i < size; ++i) {
 				ColPhyTable t = ((ColPhyTable)tableList.get(i));
@@ -2522,7 +2534,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * »
+	 * 更新基表
 	 */
 	public Sequence update(Sequence data, String opt) throws IOException {
 		if (!hasPrimaryKey) {
@@ -2590,7 +2602,7 @@ public class ColPhyTable extends PhyTable {
 			throw new RQException(mm.getMessage("engine.dsNotMatch"));
 		}
 		
-		// Ըݽ
+		// 对更新数据进行排序
 		data.sortFields(getAllSortedColNames());
 		appendCache();
 		
@@ -2608,7 +2620,7 @@ public class ColPhyTable extends PhyTable {
 		boolean isPrimaryTable = parent == null;
 		int len = data.length();
 		long []seqs = new long[len + 1];
-		int []block = new int[len + 1];//Ƿһεĵײinsert(ӱ)
+		int []block = new int[len + 1];//是否在一个段的底部insert(子表)
 		long []recNum = null;
 		int []temp = new int[1];
 		
@@ -2633,7 +2645,7 @@ public class ColPhyTable extends PhyTable {
 				}
 			}
 		} else {
-			recNum  = new long[len + 1];//ӱӦαţ0ʾ
+			recNum  = new long[len + 1];//子表对应到主表的伪号，0表示在主表补区
 			ColPhyTable baseTable = (ColPhyTable) this.groupTable.baseTable;
 			RecordSeqSearcher baseSearcher = new RecordSeqSearcher(baseTable);
 			RecordSeqSearcher2 searcher = new RecordSeqSearcher2(this);
@@ -2644,17 +2656,17 @@ public class ColPhyTable extends PhyTable {
 					seqs[i] = searcher.findNext(r.getFieldValue(k), temp);
 					block[i] = temp[0];
 					if (seqs[i] < 0) {
-						//ǲ룬ҪжһǷ
+						//如果是插入，要判断一下是否在主表的列区
 						long seq = baseSearcher.findNext(r.getFieldValue(k));
 						if (seq > 0) {
 							recNum[i] = seq;
 						} else {
 							if (baseSearcher.isEnd()) {
-								//ӱݱ
+								//子表插入的数据必须在主表
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));	
 							}
-							recNum[i] = 0;//ᴦ
+							recNum[i] = 0;//如果在主表补区，下面会处理
 						}
 					} else {
 						recNum[i] = searcher.getRecNum();
@@ -2677,17 +2689,17 @@ public class ColPhyTable extends PhyTable {
 					seqs[i] = searcher.findNext(keyValues, temp);
 					block[i] = temp[0];
 					if (seqs[i] < 0 || block[i] > 0) {
-						//ǲ룬ҪжһǷ
+						//如果是插入，要判断一下是否在主表的列区
 						long seq = baseSearcher.findNext(baseKeyValues);
 						if (seq > 0) {
 							recNum[i] = seq;
 						} else {
 							if (baseSearcher.isEnd()) {
-								//ӱݱ
+								//子表插入的数据必须在主表
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));	
 							}
-							recNum[i] = 0;//ᴦ
+							recNum[i] = 0;//如果在主表补区，下面会处理
 						}
 					} else {
 						recNum[i] = searcher.getRecNum();
@@ -2696,7 +2708,7 @@ public class ColPhyTable extends PhyTable {
 			}
 		}
 		
-		// Ҫĵappend׷
+		// 需要在最后插入的调用append追加
 		Sequence append = new Sequence();
 		ArrayList<ModifyRecord> modifyRecords = getModifyRecords();
 		boolean needUpdateSubTable = false;
@@ -2719,8 +2731,8 @@ public class ColPhyTable extends PhyTable {
 					if (seq <= totalRecordCount || block[i] > 0) {
 						ModifyRecord r = new ModifyRecord(seq, ModifyRecord.STATE_INSERT, sr.toRecord());
 						r.setBlock(block[i]);
-						//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-						//Ϊָαţ޸
+						//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+						//这里先设置为指向列区伪号，最后会根据主表补区修改
 						if (!isPrimaryTable) {
 							r.setParentRecordSeq(recNum[i]);
 						}
@@ -2755,7 +2767,7 @@ public class ColPhyTable extends PhyTable {
 						} else {
 							if ((mr.getState() == ModifyRecord.STATE_UPDATE && isUpdate) || 
 									(mr.getState() == ModifyRecord.STATE_DELETE && isInsert)) {
-								// ״̬update
+								// 状态都用update
 								BaseRecord sr = (BaseRecord)data.getMem(t);
 								mr.setRecord(sr.toRecord(), ModifyRecord.STATE_UPDATE);
 								if (result != null) {
@@ -2808,8 +2820,8 @@ public class ColPhyTable extends PhyTable {
 									BaseRecord sr = (BaseRecord)data.getMem(t);
 									mr = new ModifyRecord(seq2, ModifyRecord.STATE_INSERT, sr.toRecord());
 									mr.setBlock(block[t]);
-									//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-									//Ϊָαţ޸
+									//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+									//这里先设置为指向列区伪号，最后会根据主表补区修改
 									if (!isPrimaryTable) {
 										mr.setParentRecordSeq(recNum[t]);
 									}
@@ -2827,8 +2839,8 @@ public class ColPhyTable extends PhyTable {
 								BaseRecord sr = (BaseRecord)data.getMem(t);
 								mr = new ModifyRecord(seq2, ModifyRecord.STATE_INSERT, sr.toRecord());
 								mr.setBlock(block[t]);
-								//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-								//Ϊָαţ޸
+								//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+								//这里先设置为指向列区伪号，最后会根据主表补区修改
 								if (!isPrimaryTable) {
 									mr.setParentRecordSeq(recNum[t]);
 								}
@@ -2846,8 +2858,8 @@ public class ColPhyTable extends PhyTable {
 							BaseRecord sr = (BaseRecord)data.getMem(t);
 							mr = new ModifyRecord(seq2, ModifyRecord.STATE_INSERT, sr.toRecord());
 							mr.setBlock(block[t]);
-							//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-							//Ϊָαţ޸
+							//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+							//这里先设置为指向列区伪号，最后会根据主表补区修改
 							if (!isPrimaryTable) {
 								mr.setParentRecordSeq(recNum[t]);
 							}
@@ -2882,8 +2894,8 @@ public class ColPhyTable extends PhyTable {
 					if (seq <= totalRecordCount) {
 						ModifyRecord r = new ModifyRecord(seq, ModifyRecord.STATE_INSERT, sr.toRecord());
 						r.setBlock(block[t]);
-						//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-						//Ϊָαţ޸
+						//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+						//这里先设置为指向列区伪号，最后会根据主表补区修改
 						if (!isPrimaryTable) {
 							r.setParentRecordSeq(recNum[t]);
 						}
@@ -2906,7 +2918,7 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		if (!isPrimaryTable) {
-			//ӱҪ޸
+			//子表补区最后要根据主表补区修改
 			update(parent.getModifyRecords());
 			
 			for (ModifyRecord r : modifyRecords) {
@@ -2914,7 +2926,7 @@ public class ColPhyTable extends PhyTable {
 					if (r.getParentRecordSeq() == 0) {
 						this.modifyRecords = null;
 						this.modifyRecords = getModifyRecords();
-						//ӱݱ
+						//子表插入的数据必须在主表
 						MessageManager mm = EngineMessage.get();
 						throw new RQException(r.getRecord().toString(null) + mm.getMessage("grouptable.invalidData"));
 					}
@@ -2926,7 +2938,7 @@ public class ColPhyTable extends PhyTable {
 		saveModifyRecords();
 		
 		if (isPrimaryTable && needUpdateSubTable) {
-			//insertͱӱ
+			//主表有insert，就必须更新所有子表补区
 			ArrayList<PhyTable> tableList = getTableList();
 			for (int i = 0, size = tableList.size(); i < size; ++i) {
 				ColPhyTable t = ((ColPhyTable)tableList.get(i));
@@ -2947,7 +2959,7 @@ public class ColPhyTable extends PhyTable {
 		return result;
 	}
 	
-	// ںϵڴеĲд
+	// 融合到内存中的补区，不写入外存
 	private void append_y(Sequence data) throws IOException {
 		if (data == null || data.length() == 0) {
 			return;
@@ -2980,7 +2992,7 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		if (maxValues != null && r1.compare(keyIndex, maxValues) < 0) {
-			// Ҫ鲢
+			// 需要归并
 			long []seqs = new long[len + 1];
 			RecordSeqSearcher searcher = new RecordSeqSearcher(this);
 			
@@ -3022,7 +3034,7 @@ public class ColPhyTable extends PhyTable {
 		}
 	}
 
-	// ںϵڴеĲд
+	// 融合到内存中的补区，不写入外存
 	private Sequence update_y(Sequence data, String opt) throws IOException {
 		boolean isInsert = true,isUpdate = true;
 		Sequence result = null;
@@ -3052,7 +3064,7 @@ public class ColPhyTable extends PhyTable {
 			throw new RQException(mm.getMessage("engine.dsNotMatch"));
 		}
 		
-		// Ըݽ
+		// 对更新数据进行排序
 		data.sortFields(getAllSortedColNames());
 		appendCache();
 		
@@ -3070,7 +3082,7 @@ public class ColPhyTable extends PhyTable {
 		boolean isPrimaryTable = parent == null;
 		int len = data.length();
 		long []seqs = new long[len + 1];
-		int []block = new int[len + 1];//Ƿһεĵײinsert(ӱ)
+		int []block = new int[len + 1];//是否在一个段的底部insert(子表)
 		long []recNum = null;
 		int []temp = new int[1];
 		
@@ -3095,7 +3107,7 @@ public class ColPhyTable extends PhyTable {
 				}
 			}
 		} else {
-			recNum  = new long[len + 1];//ӱӦαţ0ʾ
+			recNum  = new long[len + 1];//子表对应到主表的伪号，0表示在主表补区
 			ColPhyTable baseTable = (ColPhyTable) this.groupTable.baseTable;
 			RecordSeqSearcher baseSearcher = new RecordSeqSearcher(baseTable);
 			RecordSeqSearcher2 searcher = new RecordSeqSearcher2(this);
@@ -3106,17 +3118,17 @@ public class ColPhyTable extends PhyTable {
 					seqs[i] = searcher.findNext(r.getFieldValue(k), temp);
 					block[i] = temp[0];
 					if (seqs[i] < 0) {
-						//ǲ룬ҪжһǷ
+						//如果是插入，要判断一下是否在主表的列区
 						long seq = baseSearcher.findNext(r.getFieldValue(k));
 						if (seq > 0) {
 							recNum[i] = seq;
 						} else {
 							if (baseSearcher.isEnd()) {
-								//ӱݱ
+								//子表插入的数据必须在主表
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));	
 							}
-							recNum[i] = 0;//ᴦ
+							recNum[i] = 0;//如果在主表补区，下面会处理
 						}
 					} else {
 						recNum[i] = searcher.getRecNum();
@@ -3139,17 +3151,17 @@ public class ColPhyTable extends PhyTable {
 					seqs[i] = searcher.findNext(keyValues, temp);
 					block[i] = temp[0];
 					if (seqs[i] < 0 || block[i] > 0) {
-						//ǲ룬ҪжһǷ
+						//如果是插入，要判断一下是否在主表的列区
 						long seq = baseSearcher.findNext(baseKeyValues);
 						if (seq > 0) {
 							recNum[i] = seq;
 						} else {
 							if (baseSearcher.isEnd()) {
-								//ӱݱ
+								//子表插入的数据必须在主表
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));	
 							}
-							recNum[i] = 0;//ᴦ
+							recNum[i] = 0;//如果在主表补区，下面会处理
 						}
 					} else {
 						recNum[i] = searcher.getRecNum();
@@ -3179,8 +3191,8 @@ public class ColPhyTable extends PhyTable {
 					if (seq <= totalRecordCount || block[i] > 0) {
 						ModifyRecord r = new ModifyRecord(seq, ModifyRecord.STATE_INSERT, sr.toRecord());
 						r.setBlock(block[i]);
-						//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-						//Ϊָαţ޸
+						//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+						//这里先设置为指向列区伪号，最后会根据主表补区修改
 						if (!isPrimaryTable) {
 							r.setParentRecordSeq(recNum[i]);
 						}
@@ -3188,8 +3200,8 @@ public class ColPhyTable extends PhyTable {
 					} else {
 						ModifyRecord r = new ModifyRecord(seq, ModifyRecord.STATE_INSERT, sr.toRecord());
 						r.setBlock(block[i]);
-						//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-						//Ϊָαţ޸
+						//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+						//这里先设置为指向列区伪号，最后会根据主表补区修改
 						if (!isPrimaryTable) {
 							r.setParentRecordSeq(recNum[i]);
 						}
@@ -3223,7 +3235,7 @@ public class ColPhyTable extends PhyTable {
 						} else {
 							if ((mr.getState() == ModifyRecord.STATE_UPDATE && isUpdate) || 
 									(mr.getState() == ModifyRecord.STATE_DELETE && isInsert)) {
-								// ״̬update
+								// 状态都用update
 								BaseRecord sr = (BaseRecord)data.getMem(t);
 								mr.setRecord(sr.toRecord(), ModifyRecord.STATE_UPDATE);
 								if (result != null) {
@@ -3276,8 +3288,8 @@ public class ColPhyTable extends PhyTable {
 									BaseRecord sr = (BaseRecord)data.getMem(t);
 									mr = new ModifyRecord(seq2, ModifyRecord.STATE_INSERT, sr.toRecord());
 									mr.setBlock(block[t]);
-									//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-									//Ϊָαţ޸
+									//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+									//这里先设置为指向列区伪号，最后会根据主表补区修改
 									if (!isPrimaryTable) {
 										mr.setParentRecordSeq(recNum[t]);
 									}
@@ -3295,8 +3307,8 @@ public class ColPhyTable extends PhyTable {
 								BaseRecord sr = (BaseRecord)data.getMem(t);
 								mr = new ModifyRecord(seq2, ModifyRecord.STATE_INSERT, sr.toRecord());
 								mr.setBlock(block[t]);
-								//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-								//Ϊָαţ޸
+								//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+								//这里先设置为指向列区伪号，最后会根据主表补区修改
 								if (!isPrimaryTable) {
 									mr.setParentRecordSeq(recNum[t]);
 								}
@@ -3314,8 +3326,8 @@ public class ColPhyTable extends PhyTable {
 							BaseRecord sr = (BaseRecord)data.getMem(t);
 							mr = new ModifyRecord(seq2, ModifyRecord.STATE_INSERT, sr.toRecord());
 							mr.setBlock(block[t]);
-							//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-							//Ϊָαţ޸
+							//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+							//这里先设置为指向列区伪号，最后会根据主表补区修改
 							if (!isPrimaryTable) {
 								mr.setParentRecordSeq(recNum[t]);
 							}
@@ -3350,8 +3362,8 @@ public class ColPhyTable extends PhyTable {
 					if (seq <= totalRecordCount) {
 						ModifyRecord r = new ModifyRecord(seq, ModifyRecord.STATE_INSERT, sr.toRecord());
 						r.setBlock(block[t]);
-						//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-						//Ϊָαţ޸
+						//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+						//这里先设置为指向列区伪号，最后会根据主表补区修改
 						if (!isPrimaryTable) {
 							r.setParentRecordSeq(recNum[t]);
 						}
@@ -3360,8 +3372,8 @@ public class ColPhyTable extends PhyTable {
 					} else {
 						ModifyRecord r = new ModifyRecord(seq, ModifyRecord.STATE_INSERT, sr.toRecord());
 						r.setBlock(block[t]);
-						//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-						//Ϊָαţ޸
+						//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+						//这里先设置为指向列区伪号，最后会根据主表补区修改
 						if (!isPrimaryTable) {
 							r.setParentRecordSeq(recNum[t]);
 						}
@@ -3383,7 +3395,7 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		if (!isPrimaryTable) {
-			//ӱҪ޸
+			//子表补区最后要根据主表补区修改
 			update(parent.getModifyRecords());
 			
 			for (ModifyRecord r : modifyRecords) {
@@ -3391,7 +3403,7 @@ public class ColPhyTable extends PhyTable {
 					if (r.getParentRecordSeq() == 0) {
 						this.modifyRecords = null;
 						this.modifyRecords = getModifyRecords();
-						//ӱݱ
+						//子表插入的数据必须在主表
 						MessageManager mm = EngineMessage.get();
 						throw new RQException(r.getRecord().toString(null) + mm.getMessage("grouptable.invalidData"));
 					}
@@ -3403,7 +3415,7 @@ public class ColPhyTable extends PhyTable {
 		//saveModifyRecords();
 		
 		if (isPrimaryTable && needUpdateSubTable) {
-			//insertͱӱ
+			//主表有insert，就必须更新所有子表补区
 			ArrayList<PhyTable> tableList = getTableList();
 			for (int i = 0, size = tableList.size(); i < size; ++i) {
 				ColPhyTable t = ((ColPhyTable)tableList.get(i));
@@ -3425,22 +3437,22 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * дһЩе
-	 * ע⣺Ҫ֤ԭﲻֶΣеķֶζԭġ
-	 * @param cursor Ҫд
-	 * @param opt	ѡ
+	 * 重写一些列的数据
+	 * 注意：输入的数据要保证原序。这里不处理分段，所有的分段都按照原来的。
+	 * @param cursor 要写入的数据
+	 * @param opt	选项
 	 * @throws IOException
 	 */
 	public void update(ICursor cursor, String opt) throws IOException {
 		/**
-		 * cursorݵĽṹҪµ
+		 * 根据cursor数据的结构，获得要更新的列
 		 */
 		Sequence temp = cursor.peek(1);
 		String[] fields = ((BaseRecord)temp.getMem(1)).getFieldNames();
 		ColumnMetaData[] columns = getColumns(fields);
 		
 		/**
-		 * Ŀǰÿֶεļ¼
+		 * 获得目前每个分段的记录条数
 		 */
 		BlockLinkReader rowCountReader = getSegmentReader();
 		int blockCount = getDataBlockCount();
@@ -3458,20 +3470,22 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		/**
-		 * Ҫµ
+		 * 把要更新的列清空
 		 */
 		for (ColumnMetaData col : columns) {
-			BlockLink blockLink = col.getSegmentBlockLink();//ֶϢ
+			BlockLink blockLink = col.getSegmentBlockLink();//分段信息块
 			blockLink.setFirstBlockPos(blockLink.firstBlockPos);
 			blockLink.freeIndex = 0;
 			
-			blockLink = col.getDataBlockLink();//ݿ
+			blockLink = col.getDataBlockLink();//数据块
 			blockLink.setFirstBlockPos(blockLink.firstBlockPos);
 			blockLink.freeIndex = 0;
+			
+			col.resetBlockFilter();//过滤信息
 		}
 		
 		/**
-		 * дǰĳʼ
+		 * 写前变量的初始化
 		 */
 		for (ColumnMetaData col : columns) {
 			col.prepareWrite();
@@ -3483,7 +3497,7 @@ public class ColPhyTable extends PhyTable {
 		Object []startValues = new Object[columnCount];
 		
 		/**
-		 * ѭд
+		 * 循环写入新数据
 		 */
 		for (long count : recordCountArray) {
 			for (int i = 0; i < columnCount; i++) {
@@ -3491,7 +3505,7 @@ public class ColPhyTable extends PhyTable {
 			}
 			
 			/**
-			 * ÿеֵ
+			 * 计算每列的最值
 			 */
 			Sequence data = cursor.fetch((int) count);
 			IArray mems = data.getMems();
@@ -3501,7 +3515,7 @@ public class ColPhyTable extends PhyTable {
 				mems.set(i, null);
 				
 				/**
-				 * һ¼деbufferWriter
+				 * 把这一条记录的数据写到各列的bufferWriter
 				 */
 				Object[] vals = r.getFieldValues();
 				for (int j = 0; j < columnCount; j++) {
@@ -3511,7 +3525,7 @@ public class ColPhyTable extends PhyTable {
 						if (Variant.compare(obj, maxValues[j], true) > 0)
 							maxValues[j] = obj;
 						if (i == 1) {
-							minValues[j] = obj;//һθֵ
+							minValues[j] = obj;//第一次赋值
 							startValues[j] = obj;
 						}
 						if (Variant.compare(obj, minValues[j], true) < 0)
@@ -3521,20 +3535,20 @@ public class ColPhyTable extends PhyTable {
 			}
 			
 			/**
-			 * дݵÿп
+			 * 写新数据到每个列块
 			 */
 			for (int j = 0; j < columnCount; j++) {
 				byte[] buf = bufferWriters[j].finish();
 				if (!columns[j].isDim()) {
-					columns[j].appendColBlock(buf);//׷п
+					columns[j].appendColBlock(buf);//追加列块
 				} else {
-					columns[j].appendColBlock(buf, minValues[j], maxValues[j], startValues[j]);//׷ά
+					columns[j].appendColBlock(buf, minValues[j], maxValues[j], startValues[j]);//追加维块
 				}
 			}
 		}
 		
 		/**
-		 * ύϢ
+		 * 提交列信息
 		 */
 		for (ColumnMetaData col : columns) {
 			col.finishWrite();
@@ -3543,12 +3557,12 @@ public class ColPhyTable extends PhyTable {
 		updateIndex();
 	}
 	
-	/** dataݵάֵɾָļ¼
+	/** 按照data里数据的维值，删除指定的记录
 	 * @param data 
 	 * @param opt
 	 */
 	public Sequence delete(Sequence data, String opt) throws IOException {
-		boolean deleteByBaseKey = false;//ֻڲɾӱʱ@n
+		boolean deleteByBaseKey = false;//只用于内部删除子表的列区，此时不会有@n
 		if (opt != null && opt.indexOf('s') != -1) {
 			deleteByBaseKey = true;
 		}
@@ -3572,7 +3586,7 @@ public class ColPhyTable extends PhyTable {
 		Sequence result1 = null;
 		PhyTable tmd = getSupplementTable(false);
 		if (tmd != null) {
-			// вļʱɾļеݣļвڵԴļɾ
+			// 有补文件时先删除补文件中的数据，补文件中不存在的再在源文件中删除
 			result1 = tmd.delete(data, "n");
 			data = (Sequence) data.diff(result1, false);
 		}
@@ -3676,7 +3690,7 @@ public class ColPhyTable extends PhyTable {
 				if (deleteByBaseKey) {
 					long s = searcher.findNext(keyValues, keyCount);
 					if (s <= 0) {
-						i++;//Ҳʱ++
+						i++;//当找不到时才++
 					} else {
 						seqList.add(s);
 						seqListData.add(r);
@@ -3826,16 +3840,16 @@ public class ColPhyTable extends PhyTable {
 		
 		if (modified) {
 			if (isPrimaryTable) {
-				//deleteͱͬdeleteӱ
+				//主表有delete，就必须同步delete子表
 				ArrayList<PhyTable> tableList = getTableList();
 				int size = tableList.size();
 				for (int i = 0; i < size; ++i) {
 					ColPhyTable t = ((ColPhyTable)tableList.get(i));
-					t.delete(data, "s");//ɾӱ
-					t.delete(data);//ɾӱ
+					t.delete(data, "s");//删除子表列区
+					t.delete(data);//删除子表补区
 				}
 				
-				//ɾλû仯Ҫͬӱ
+				//主表有删除，补区的位置会变化，还要同步子表补区
 				for (int i = 0; i < size; ++i) {
 					ColPhyTable t = ((ColPhyTable)tableList.get(i));
 					t.update(this.modifyRecords);
@@ -3859,7 +3873,7 @@ public class ColPhyTable extends PhyTable {
 		return result;
 	}
 	
-	//ĲͬԼĲ
+	//根据主表的补区，同步更新自己的补区
 	private boolean update(ArrayList<ModifyRecord> baseModifyRecords) throws IOException {
 		getGroupTable().checkWritable();
 		
@@ -3904,7 +3918,7 @@ public class ColPhyTable extends PhyTable {
 		return find;
 	}
 	
-	//dataɾӱĲ
+	//根据data删除子表的补区
 	private boolean delete(Sequence data) throws IOException {
 		ArrayList<ModifyRecord> tmp = new ArrayList<ModifyRecord>();
 		ArrayList<ModifyRecord> srcModifyRecords = new ArrayList<ModifyRecord>();
@@ -4018,7 +4032,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * Ҽ¼
+	 * 根据主键查找记录
 	 * @param values
 	 */
 	public Table finds(Sequence values) throws IOException {
@@ -4026,7 +4040,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * Ҽ¼selFieldsΪѡ
+	 * 根据主键查找记录，selFields为选出列
 	 * @param values
 	 * @param selFields
 	 */
@@ -4075,7 +4089,7 @@ public class ColPhyTable extends PhyTable {
 		int valueLen = dimValues.length;
 		int dimCount = dimValues[0].length;
 		
-		// άֶκѡкϲ
+		// 把维字段和选出列合并
 		ColumnMetaData[] cols = getSortedColumns();
 		ArrayList<ColumnMetaData> list = new ArrayList<ColumnMetaData>();
 		for (int i = 0; i < dimCount; ++i) {
@@ -4095,7 +4109,7 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		int colCount = list.size();
-		int []findex = new int [colCount]; // ÿֶڽݽṹеֶκ
+		int []findex = new int [colCount]; // 每个字段在结果集数据结构中的字段号
 		ColumnMetaData []columns = new ColumnMetaData[colCount];
 		list.toArray(columns);
 		DataStruct ds = new DataStruct(selFields);
@@ -4328,11 +4342,11 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * nطֶεֵÿ
-	 * @param keys ֶֶ
-	 * @param list صÿ
-	 * @param values طֶεֵ
-	 * @param n ÿ
+	 * 根据n返回分段点值和每段条数
+	 * @param keys 分段字段
+	 * @param list 返回的每段条数
+	 * @param values 返回分段点值
+	 * @param n 期望的每段条数
 	 * @throws IOException 
 	 */
 	public void getSegmentInfo(String []keys, ArrayList<Integer> list, Sequence values, int n) throws IOException {
@@ -4377,15 +4391,15 @@ public class ColPhyTable extends PhyTable {
 				}
 			}
 		}
-		list.add(sum);//һֶпֻһ
+		list.add(sum);//最后一个分段条数，有可能只有这一个
 	}
 	
 	/**
-	 * nطֶεͶ
-	 * @param keys ֶֶ
-	 * @param list صÿ
-	 * @param values طֶεֵ
-	 * @param n ÿ
+	 * 根据n返回分段点和段数
+	 * @param keys 分段字段
+	 * @param list 返回的每段条数
+	 * @param values 返回分段点值
+	 * @param n 期望的每段条数
 	 * @throws IOException 
 	 */
 	public void getSegmentInfo2(String []keys, ArrayList<Integer> list, Sequence values, int n) throws IOException {
@@ -4436,11 +4450,11 @@ public class ColPhyTable extends PhyTable {
 				}
 			}
 		}
-		list.add(blockCount);//
+		list.add(blockCount);//最后段数
 	}
 	
 	/**
-	 * еСֵ
+	 * 返回列的最大最小值
 	 * @param key
 	 * @return
 	 * @throws IOException
@@ -4486,7 +4500,7 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ÿֶεļ¼
+	 * 返回每个分段的记录数
 	 */
 	public long[] getSegmentInfo() {
 		BlockLinkReader rowCountReader = getSegmentReader();
@@ -4509,8 +4523,8 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ϲļ
-	 * @param table һ
+	 * 合并两个组表文件
+	 * @param table 另一个组表
 	 * @throws IOException
 	 */
 	public void append(ColPhyTable table) throws IOException {
@@ -4527,7 +4541,7 @@ public class ColPhyTable extends PhyTable {
 			throw new RQException(mm.getMessage("grouptable.invalidData"));
 		}
 		
-		// ȡ׷ӵı¼άֵֶжϺϲıǷ
+		// 取出追加的表的首条记录的维字段值用来判断合并后的表是否有序和有主键
 		Object []startValues = null;
 		if (isSorted) {
 			ColumnMetaData []columns = table.getSortedColumns();
@@ -4554,7 +4568,7 @@ public class ColPhyTable extends PhyTable {
 			}
 		}
 		
-		// ׼д
+		// 准备写数据
 		prepareAppend();
 		
 		ColumnMetaData []columns = this.columns;
@@ -4564,34 +4578,39 @@ public class ColPhyTable extends PhyTable {
 		BlockLinkReader rowCountReader = table.getSegmentReader();
 		BlockLinkReader []colReaders = new BlockLinkReader[colCount];
 		ObjectReader []segmentReaders = new ObjectReader[colCount];
+		ObjectReader []filterReaders = new ObjectReader[colCount];
 		for (int i = 0; i < colCount; ++i) {
 			colReaders[i] = columns2[i].getColReader(true);
 			segmentReaders[i] = columns2[i].getSegmentReader();
+			filterReaders[i] = columns2[i].getBlockFilterReader();
 		}
 		
 		int blockCount = table.getDataBlockCount();
 		for (int i = 0; i < blockCount; ++i) {
 			for (int j = 0; j < colCount; j++) {
-				columns[j].copyColBlock(colReaders[j], segmentReaders[j]);
+				columns[j].copyColBlock(colReaders[j], segmentReaders[j], filterReaders[j]);
 			}
 			
-			//·ֶϢbuffer
+			//更新分段信息buffer
 			appendSegmentBlock(rowCountReader.readInt32());
 		}
 		
-		// дݣ浽ļ
+		// 结束写数据，保存到文件
 		finishAppend();
 		
 		rowCountReader.close();
 		for (int i = 0; i < colCount; ++i) {
 			colReaders[i].close();
 			segmentReaders[i].close();
+			if (filterReaders[i] != null) {
+				filterReaders[i].close();
+			}
 		}
 	}
 	
 	/**
-	 * òʼļ¼ڵĿ
-	 * @return 
+	 * 获得补区最开始的记录所在的块号
+	 * @return 块号
 	 */
 	public int getFirstBlockFromModifyRecord() {
 		long minSeq = Long.MAX_VALUE;
@@ -4618,35 +4637,35 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ø
-	 * @param block ֹ
-	 * @return ļĩβĽضλ
+	 * 重置各个区块链
+	 * @param block 截止块号
+	 * @return 最靠近文件末尾的截断位置
 	 */
 	public long resetByBlock(int block) {
 		BlockLinkReader rowCountReader = getSegmentReader();
 		long sum = 0;
 		int blockSize = getGroupTable().blockSize;
 		try {
-			//ѷֶϢ
+			//把分段信息读出来
 			for (int i = 0; i < block; ++i) {
 				int cnt = rowCountReader.readInt32();
 				sum += cnt;
 			}
 
-			//޸ķֶϢ
+			//修改分段信息
 			segmentBlockLink.lastBlockPos = rowCountReader.position();
 			segmentBlockLink.freeIndex = rowCountReader.getCaret();
 			
-			//
+			//重置属性
 			totalRecordCount = sum;
 			dataBlockCount = block;
-			//ղ
+			//清空补区
 			modifyRecords.clear();
 			saveModifyRecords();
 			
 			maxValues = null;
-			//ÿп
-			long resetPos = 0;//ļĩβĽضλ
+			//重置每个列块
+			long resetPos = 0;//保存最靠近文件末尾的截断位置
 			for (ColumnMetaData col : columns) {
 				ObjectReader reader;
 				BlockLinkReader segmentReader = new BlockLinkReader(col.getSegmentBlockLink());
@@ -4658,7 +4677,7 @@ public class ColPhyTable extends PhyTable {
 					throw new RQException(e.getMessage(), e);
 				}
 				
-				//ȡпķֶϢ
+				//读取列块的分段信息
 				for (int i = 0; i < block; ++i) {
 					reader.readLong40();
 					if (col.hasMaxMinValues()) {
@@ -4668,12 +4687,12 @@ public class ColPhyTable extends PhyTable {
 					}
 				}
 				
-				//дпķֶϢ
+				//重写列块的分段信息
 				BlockLink blockLink = col.getSegmentBlockLink();
 				blockLink.freeIndex = (int) (reader.position() % blockSize);
 				blockLink.lastBlockPos = segmentReader.position();
 				
-				long tempPos = reader.readLong40();//ֹʼĵַ
+				long tempPos = reader.readLong40();//保存截止后开始的地址
 				if (resetPos < tempPos) {
 					resetPos = tempPos;
 				}
@@ -4683,6 +4702,8 @@ public class ColPhyTable extends PhyTable {
 				blockLink = col.getDataBlockLink();
 				blockLink.freeIndex = (int) (tempPos % blockSize);
 				blockLink.lastBlockPos = tempPos - (tempPos % blockSize);
+				
+				col.resetBlockFilter(block);
 			}
 
 			if (parent != null) {
@@ -4695,16 +4716,16 @@ public class ColPhyTable extends PhyTable {
 					segmentReader.close();
 					throw new RQException(e.getMessage(), e);
 				}
-				//ȡзֶϢ
+				//读取导列分段信息
 				for (int i = 0; i < block; ++i) {
 					reader.readLong40();
 				}
-				//дпķֶϢ
+				//重写列块的分段信息
 				BlockLink blockLink = guideColumn.getSegmentBlockLink();
 				blockLink.freeIndex = (int) (reader.position() % blockSize);
 				blockLink.lastBlockPos = segmentReader.position();
 				
-				long tempPos = reader.readLong40();//ֹʼĵַ
+				long tempPos = reader.readLong40();//保存截止后开始的地址
 				if (resetPos < tempPos) {
 					resetPos = tempPos;
 				}
@@ -4727,11 +4748,11 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * fieldǷάֶ
-	 * ǣݱʽ㷶Χ
-	 * 򷵻NULL
+	 * 检查field是否是维字段
+	 * 如果是，则根据表达式计算范围
+	 * 否则返回NULL
 	 * @param field
-	 * @param node ʽhomeڵ
+	 * @param node 表达式的home节点
 	 * @param ctx
 	 */
 	long[] checkDim(String field, Node node, Context ctx) {
@@ -4794,13 +4815,13 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * д뻺
+	 * 写入缓存的数据
 	 */
 	public void appendCache() throws IOException {
 		if (appendCache == null) return;
 		
 		ICursor cursor = new MemoryCursor(appendCache);
-		// ׼д
+		// 准备写数据
 		prepareAppend();
 		
 		if (parent != null) {
@@ -4815,33 +4836,33 @@ public class ColPhyTable extends PhyTable {
 		}
 
 		appendCache = null;
-		// дݣ浽ļ
+		// 结束写数据，保存到文件
 		finishAppend();
 	}
 	
 	/**
-	 * Ķ·α (ڼȺĽڵ)
-	 * @param exps ȡֶαʽexpsΪnullʱfieldsȡ
-	 * @param fields ȡֶε
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param pathSeq ڼ
-	 * @param pathCount ڵ
-	 * @param pathCount2 ڵָĿ
-	 * @param ctx 
+	 * 返回这个基表的多路游标 (用于集群的节点机)
+	 * @param exps 取出字段表达式（当exps为null时按照fields取出）
+	 * @param fields 取出字段的新名称
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param pathSeq 第几段
+	 * @param pathCount 节点机数
+	 * @param pathCount2 节点机上指定的块数
+	 * @param ctx 上下文
 	 * @return
 	 */
 	public ICursor cursor(Expression []exps, String[] fields, Expression filter, String[] fkNames, 
 			Sequence[] codes, String[] opts, int pathSeq, int pathCount, int pathCount2, Context ctx) {
 		if (dataBlockCount < pathCount || pathCount2 < 2) {
-			//ڽڵ߽ڵָĿ2
+			//如果块数少于节点机数或者节点机上指定的块数少于2
 			return cursor(exps, fields, filter, fkNames, codes, opts, pathSeq, pathCount, ctx);
 		}
 				
 		ICursor []cursors = new ICursor[pathCount2];
 		
-		//õָǰڵĿ
+		//得到划分给当前节点机的块数
 		int avg = dataBlockCount / pathCount;
 		int count = avg;
 		if (pathSeq == pathCount) {
@@ -4850,11 +4871,11 @@ public class ColPhyTable extends PhyTable {
 		
 		int offset = (pathSeq - 1) * avg;
 		if (count < pathCount2) {
-			//ҪĿСڲ
+			//如果要处理的块数小于并行数
 			int i = 0;
 			for (; i < count; i++) {
 				if (filter != null) {
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 				}
 
@@ -4864,7 +4885,7 @@ public class ColPhyTable extends PhyTable {
 			
 			for (; i < pathCount2; i++) {
 				if (filter != null) {
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 				}
 
@@ -4872,11 +4893,11 @@ public class ColPhyTable extends PhyTable {
 				((IDWCursor) cursors[i]).setSegment(0, -1);
 			}
 		} else {
-			//õָǰڵÿһ·Ŀ
+			//得到划分给当前节点机的每一路的块数
 			int avg2 = count / pathCount2;
 			for (int i = 0; i < pathCount2; i++) {
 				if (filter != null) {
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 				}
 				
@@ -4893,16 +4914,16 @@ public class ColPhyTable extends PhyTable {
 	}
 
 	/**
-	 * ݸαֶ꣬ͬεĶ·α
-	 * @param exps ȡֶαʽexpsΪnullʱfieldsȡ
-	 * @param fields ȡֶε
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param opts ֶνйѡ
-	 * @param cursor οα
-	 * @param seg ڵ
-	 * @param endValues βҪ׷ӵļ¼
+	 * 根据给定的游标，返回同步分段的多路游标
+	 * @param exps 取出字段表达式（当exps为null时按照fields取出）
+	 * @param fields 取出字段的新名称
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param opts 关联字段进行关联的选项
+	 * @param cursor 参考游标
+	 * @param seg 节点机号
+	 * @param endValues 尾部要追加的记录
 	 * @param ctx
 	 * @return
 	 */
@@ -4945,7 +4966,7 @@ public class ColPhyTable extends PhyTable {
 		
 		int fcount = names.length;
 		if (seg != 0) {
-			//ǵһڵ
+			//如果不是第一个节点机
 			BaseRecord rec = new Record(cursor.getDataStruct());
 			Sequence tempSeq = new Sequence();
 			tempSeq.add(rec);
@@ -4961,7 +4982,7 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		if (seg + 1 <= endValues.length) {
-			//һڵ
+			//如果不是最后一个节点机
 			Object []objs = endValues[seg];
 			BaseRecord rec = new Record(cursor.getDataStruct());
 			for (int f = 0; f < fcount; f++) {
@@ -4993,7 +5014,7 @@ public class ColPhyTable extends PhyTable {
 		}
 		
 		Object [][]minValues = new Object [segCount][];
-		int dataSegCount = segCount; // ݵĶ·α·
+		int dataSegCount = segCount; // 有数据的多路游标路数
 		
 		for (int i = 0; i < segCount; ++i) {
 			Sequence seq = srcs[i].peek(1);
@@ -5028,14 +5049,14 @@ public class ColPhyTable extends PhyTable {
 		ICursor []cursors = new ICursor[segCount];
 		boolean []isEquals = new boolean[segCount];
 		
-		//ÿα겹ȫ
+		//用空游标补全
 		for (int i = dataSegCount; i < segCount; ++i) {
 			Cursor cs = new Cursor(this, fields, filter, fkNames, codes, opts, ctx);
 			cs.setSegment(0, -1);
 			cursors[i] = cs;
 		}
 		try {
-			// ֶͬεģҪͷȥβ
+			// 不是同步分段的，需要掐头去尾
 			int startBlock = 0;
 			for (int b = 0; b < blockCount && s < dataSegCount; ++b) {
 				for (int f = 0; f < fcount; ++f) {
@@ -5046,7 +5067,7 @@ public class ColPhyTable extends PhyTable {
 				}
 				
 				if (filter != null) {
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 				}
 				
@@ -5077,7 +5098,7 @@ public class ColPhyTable extends PhyTable {
 			
 			if (s == dataSegCount) {
 				if (filter != null) {
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 				}
 				
@@ -5092,9 +5113,9 @@ public class ColPhyTable extends PhyTable {
 					}
 				}
 			} else {
-				// һεʼֵСڵڲյĶ·αмεʼֵ
+				// 最后一段的起始值小于等于参照的多路游标的中间段的起始值
 				if (filter != null) {
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 				}
 				
@@ -5109,9 +5130,9 @@ public class ColPhyTable extends PhyTable {
 					}
 				}
 				
-				// һα꣬նδһȡӦֵ
+				// 定义最后一段游标，其它空段从最后一段取出相应的值
 				if (filter != null) {
-					// ֶβжȡʱҪƱʽͬһʽֲ֧
+					// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					filter = filter.newExpression(ctx);
 				}
 				
@@ -5123,7 +5144,7 @@ public class ColPhyTable extends PhyTable {
 				
 				for (; s < dataSegCount - 1; ++s) {
 					if (filter != null) {
-						// ֶβжȡʱҪƱʽͬһʽֲ֧
+						// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 						filter = filter.newExpression(ctx);
 					}
 					
@@ -5160,13 +5181,13 @@ public class ColPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * һ
-	 * @param colName 
-	 * @param exp ֵʽ
+	 * 添加一列
+	 * @param colName 列名
+	 * @param exp 列值表达式
 	 * @param ctx 
 	 */
 	public void addColumn(String colName, Expression exp, Context ctx) {
-		//ǷѾ
+		//检查列是否已经存在
 		ColumnMetaData existCol = getColumn(colName);
 		if (null != existCol) {
 			if (existCol.isDim() || existCol.isKey() || this.getModifyRecords() != null) {
@@ -5175,30 +5196,30 @@ public class ColPhyTable extends PhyTable {
 			}
 		}
 		
-		//½һ
+		//新建立一个列
 		ColumnMetaData col = new ColumnMetaData(this, colName, false, false);
 		ICursor cursor = cursor();
 		BlockLinkReader rowCountReader = getSegmentReader();
 		
 		try {
-			//ʼп
+			//初始化列块
 			col.applySegmentFirstBlock();
 			col.applyDataFirstBlock();
 			col.prepareWrite();
 			int curBlock = 0, endBlock = getDataBlockCount();
 			
-			//ÿεļ¼ȡexp
+			//按照每段的记录数把其它列取出来，并按照exp计算
 			while (curBlock < endBlock) {
 				curBlock++;
 				
-				//ȡ
+				//取数，计算
 				int recordCount = rowCountReader.readInt32();
 				Sequence data = (Sequence) cursor.fetch(recordCount);
 				data = data.newTable(new String[] {""}, new Expression[]{exp}, ctx);
 				
-				//Ѽõݣд
-				Object []minValues = new Object[1];//һСάֵ
-				Object []maxValues = new Object[1];//һάֵ
+				//把计算得到数据，写入新列
+				Object []minValues = new Object[1];//一块的最小维值
+				Object []maxValues = new Object[1];//一块的最大维值
 				Object []startValues = new Object[1];
 				int[] dataTypeInfo = new int[1];
 				
@@ -5207,18 +5228,23 @@ public class ColPhyTable extends PhyTable {
 				int len = data.length();
 				DataBlockWriterJob.writeDataBlock(bufferWriter, data, dict, 0, 1, len, maxValues, minValues, startValues, dataTypeInfo);
 				
-				//ͳ
+				//统计列数据类型
 				col.adjustDataType(dataTypeInfo[0]);
 				
-				//ύпbuffer
-				col.appendColBlock(bufferWriter.finish(), minValues[0], maxValues[0], startValues[0]);
+				//提交列块buffer
+				BlockFilter blockFilter = null;
+				if (col.hasBlockFilter()) {
+					blockFilter = BlockFilter.create(data.getMems(), 0, 1, len);
+				}
+				
+				col.appendColBlock(bufferWriter.finish(), minValues[0], maxValues[0], startValues[0], blockFilter);
 			}
 			
 			col.finishWrite();
 			cursor.close();
 			
 			if (existCol != null) {
-				//滻
+				//替换
 				int len = columns.length;
 				for (int i = 0; i < len; i++) {
 					ColumnMetaData column = columns[i];
@@ -5229,7 +5255,7 @@ public class ColPhyTable extends PhyTable {
 				}
 				groupTable.save();
 			} else {
-				//׷
+				//追加
 				ColumnMetaData []newColumns = java.util.Arrays.copyOf(columns, columns.length + 1);
 				String []newColNames = java.util.Arrays.copyOf(colNames, colNames.length + 1);
 				newColumns[columns.length] = col;
@@ -5246,13 +5272,13 @@ public class ColPhyTable extends PhyTable {
 	public void deleteColumn(String colName) {
 		ColumnMetaData col = getColumn(colName);
 		
-		//Ƿ
+		//检查列是否存在
 		if (col == null) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("alter" + mm.getMessage("dw.columnNotExist"));
 		}
 		
-		//Ƿɾάл
+		//检查是否在删除维列或排序列
 		if (col.isDim() || col.isKey()) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("alter" + mm.getMessage("dw.columnNotEditable"));
@@ -5262,7 +5288,7 @@ public class ColPhyTable extends PhyTable {
 		String []newColNames = new String[colNames.length - 1];
 		int i = 0;
 		for (ColumnMetaData cmd : columns) {
-			if (cmd != col) {//õöԱ
+			if (cmd != col) {//这里用的是引用对比
 				newColumns[i] = cmd;
 				newColNames[i++] = cmd.getColName();
 			}
@@ -63,7 +63,7 @@ public class ColumnFilter extends IFilter {
 	}
 	
 	/**
-	 * еĶƥ
+	 * 所有的对象都匹配
 	 */
 	public boolean matchAll(Object minValue, Object maxValue) {
 		switch (operator) {
@@ -82,6 +82,14 @@ public class ColumnFilter extends IFilter {
 		}
 	}
 	
+	protected Object[] getBlockFilterValues() {
+		if (operator == EQUAL) {
+			return new Object[] {rightValue};
+		} else {
+			return null;
+		}
+	}
+	
 	public Object getRightValue() {
 		return rightValue;
 	}
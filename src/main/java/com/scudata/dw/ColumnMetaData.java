@@ -4,31 +4,35 @@ import java.io.IOException;
 
 import com.scudata.common.RQException;
 import com.scudata.array.LongArray;
+import com.scudata.dm.Env;
 import com.scudata.dm.ObjectReader;
 import com.scudata.dm.ObjectWriter;
 import com.scudata.dm.Sequence;
 
-// ֶԪ
+// 字段元数据
 public class ColumnMetaData {
 	protected ComTable groupTable;
-	private String colName; // #ͷʾάа#ȥ
-	private boolean isDim; // Ƿάֶεһֶ֣
-	private boolean isKey; // Ƿһ
+	private String colName; // 列名，以#开头表示维，名字中把#去掉
+	private boolean isDim; // 是否维字段的一部分，即排序字段
+	private boolean isKey; // 是否是主键的一部分
 	
-	// ѷ
-	private int serialBytesLen = 0; // 0Ϊźż
+	// 已废弃
+	private int serialBytesLen = 0; // 如果大于0则为排号键
 	
-	private BlockLink dataBlockLink; // п
-	private BlockLink segmentBlockLink; // ֶϢμ¼ÿпλãάֶټСֵֵ
+	private BlockLink dataBlockLink; // 列块区块链
+	private BlockLink segmentBlockLink; // 分段信息区块链，依次记录每个列块的物理位置，如果是维字段再记着最小值和最大值
+	private BlockLink filterBlockLink; // 过滤信息区块链，依次记录每个列块的空值数和布隆过滤器，版本6增加，可能为空
 
 	private transient BlockLinkWriter colWriter;
 	private transient BlockLinkWriter segmentWriter;
 	private transient ObjectWriter objectWriter;
+	private transient BlockLinkWriter filterWriter;
+	private transient ObjectWriter filterObjectWriter;
 	
-	private Sequence dict;//ֵ汾4
-	private Object dictArray;//ֵʽ
-	private boolean hasMaxMinValues;//汾4
-	private int dataType = DataBlockType.EMPTY;// 汾5
+	private Sequence dict;//字典版本4增加
+	private Object dictArray;//字典的数组格式
+	private boolean hasMaxMinValues;//版本4增加
+	private int dataType = DataBlockType.EMPTY;//列数据类型 版本5增加
 	
 	public ColumnMetaData() {	
 	}
@@ -47,12 +51,16 @@ public class ColumnMetaData {
 		isKey = src.isKey;
 		hasMaxMinValues = src.hasMaxMinValues;
 		serialBytesLen = src.serialBytesLen;
+		if (src.filterBlockLink != null) {
+			filterBlockLink = new BlockLink(groupTable);
+		}
 	}
 	
 	public ColumnMetaData(ColumnMetaData src) {
 		groupTable = src.groupTable;
 		dataBlockLink = src.dataBlockLink;
 		segmentBlockLink = src.segmentBlockLink;
+		filterBlockLink = src.filterBlockLink;
 		colName = src.colName;
 		isDim = src.isDim;
 		isKey = src.isKey;
@@ -60,11 +68,11 @@ public class ColumnMetaData {
 	}
 	
 	/**
-	 * ж
-	 * @param table ı
-	 * @param name 
-	 * @param isDim Ƿάֶεһֶ֣
-	 * @param isKey Ƿһ
+	 * 产生列对象
+	 * @param table 所属的表
+	 * @param name 列名
+	 * @param isDim 是否维字段的一部分，即排序字段
+	 * @param isKey 是否是主键的一部分
 	 */
 	public ColumnMetaData(ColPhyTable table, String name, boolean isDim, boolean isKey) {
 		this(table);
@@ -73,6 +81,9 @@ public class ColumnMetaData {
 		this.isDim = isDim;
 		this.isKey = isKey;
 		hasMaxMinValues = true;
+		if (Env.isBlockFilter()) {
+			filterBlockLink = new BlockLink(groupTable);
+		}
 	}
 	
 	public ColumnMetaData(ColPhyTable table, String name, int serialBytesLen) throws IOException {
@@ -87,6 +98,9 @@ public class ColumnMetaData {
 		
 		this.serialBytesLen = serialBytesLen;
 		hasMaxMinValues = true;
+		if (Env.isBlockFilter()) {
+			filterBlockLink = new BlockLink(groupTable);
+		}
 	}
 	
 	public boolean isSerialBytes() {
@@ -106,7 +120,7 @@ public class ColumnMetaData {
 	}
 
 	/**
-	 * ֶǷάһֶ֣Σ
+	 * 返回字段是否是维的一部分（即排序字段）
 	 * @return
 	 */
 	public boolean isDim() {
@@ -114,7 +128,7 @@ public class ColumnMetaData {
 	}
 	
 	/**
-	 * ֶǷһ
+	 * 返回字段是否是主键的一部分
 	 * @return
 	 */
 	public boolean isKey() {
@@ -130,6 +144,9 @@ public class ColumnMetaData {
 	void applySegmentFirstBlock() throws IOException {
 		if (dataBlockLink.isEmpty()) {
 			segmentBlockLink.setFirstBlockPos(groupTable.applyNewBlock());
+			if (filterBlockLink != null) {
+				filterBlockLink.setFirstBlockPos(groupTable.applyNewBlock());
+			}
 		}
 	}
 	
@@ -165,6 +182,11 @@ public class ColumnMetaData {
 		} else {
 			dataType = DataBlockType.EMPTY;
 		}
+		
+		if (version > 5 && reader.readBoolean()) {
+			filterBlockLink = new BlockLink(groupTable);
+			filterBlockLink.readExternal(reader);
+		}
 	}
 	
 	public void writeExternal(BufferWriter writer) throws IOException {
@@ -174,9 +196,9 @@ public class ColumnMetaData {
 		dataBlockLink.writeExternal(writer);
 		segmentBlockLink.writeExternal(writer);
 		
-		writer.writeBoolean(isKey); // 汾1
+		writer.writeBoolean(isKey); // 版本1增加
 		
-		// 汾4
+		// 版本4增加
 		Sequence dict = this.dict;
 		if (dict != null && dict.length() == 0) {
 			dict = null;
@@ -185,15 +207,25 @@ public class ColumnMetaData {
 		writer.writeObject(dict);
 		writer.flush();
 		
-		// 汾5
+		// 版本5增加
 		writer.writeInt(0);
 		writer.writeInt(dataType);
+		
+		// 版本6增加
+		writer.writeBoolean(filterBlockLink != null);
+		if (filterBlockLink != null) {
+			filterBlockLink.writeExternal(writer);
+		}
 	}
 	
 	public void prepareWrite() throws IOException {
 		colWriter = new BlockLinkWriter(dataBlockLink, true);
 		segmentWriter = new BlockLinkWriter(segmentBlockLink, true);
 		objectWriter = new ObjectWriter(segmentWriter, groupTable.getBlockSize() - ComTable.POS_SIZE);
+		if (filterBlockLink != null) {
+			filterWriter = new BlockLinkWriter(filterBlockLink, true);
+			filterObjectWriter = new ObjectWriter(filterWriter, groupTable.getBlockSize() - ComTable.POS_SIZE);
+		}
 	}
 	
 	public void finishWrite() throws IOException {
@@ -204,24 +236,58 @@ public class ColumnMetaData {
 		segmentWriter.finishWrite();
 		segmentWriter = null;
 		objectWriter = null;
+		
+		if (filterWriter != null) {
+			filterObjectWriter.flush();
+			filterWriter.finishWrite();
+			filterWriter = null;
+			filterObjectWriter = null;
+		}
 	}
 	
-	// ׷һп飬ͬʱҪ޸ķֶϢ
+	// 追加一个列块，同时需要修改分段信息区块链
 	public void appendColBlock(byte []bytes) throws IOException {
 		long pos = colWriter.writeDataBlock(bytes);
 		objectWriter.writeLong40(pos);
+		appendBlockFilter(null);
 	}
 	
-	// ׷һάп飬ͬʱҪ޸ķֶϢ
+	// 追加一个维列块，同时需要修改分段信息区块链
 	public void appendColBlock(byte []bytes, Object minValue, Object maxValue, Object startValue) throws IOException {
+		appendColBlock(bytes, minValue, maxValue, startValue, null);
+	}
+	
+	// 追加一个维列块，同时需要修改分段信息区块链和过滤信息区块链
+	public void appendColBlock(byte []bytes, Object minValue, Object maxValue, 
+			Object startValue, BlockFilter blockFilter) throws IOException {
 		long pos = colWriter.writeDataBlock(bytes);
 		objectWriter.writeLong40(pos);
 		objectWriter.writeObject(minValue);
 		objectWriter.writeObject(maxValue);
 		objectWriter.writeObject(startValue);
+		appendBlockFilter(blockFilter);
+	}
+	
+	// 过滤信息跟列块一一对应，每追加一个列块都要写一条，没有过滤信息时写空
+	private void appendBlockFilter(BlockFilter blockFilter) throws IOException {
+		if (filterObjectWriter != null) {
+			BlockFilter.write(filterObjectWriter, blockFilter);
+		}
 	}
 	
 	public void copyColBlock(BlockLinkReader colReader, ObjectReader segmentReader) throws IOException {
+		copyColBlock(colReader, segmentReader, null);
+	}
+	
+	/**
+	 * 从另一个表的列复制一个列块
+	 * @param colReader 列块读取器
+	 * @param segmentReader 分段信息读取器
+	 * @param filterReader 过滤信息读取器，源列没有过滤信息时为空
+	 * @throws IOException
+	 */
+	public void copyColBlock(BlockLinkReader colReader, ObjectReader segmentReader, 
+			ObjectReader filterReader) throws IOException {
 		long pos = colWriter.copyDataBlock(colReader);
 		
 		segmentReader.readLong40();
@@ -231,6 +297,14 @@ public class ColumnMetaData {
 			objectWriter.writeObject(segmentReader.readObject());
 			objectWriter.writeObject(segmentReader.readObject());
 		}
+		
+		if (filterReader == null) {
+			appendBlockFilter(null);
+		} else if (filterObjectWriter != null) {
+			BlockFilter.copy(filterReader, filterObjectWriter);
+		} else {
+			BlockFilter.skip(filterReader);
+		}
 	}
 	
 	public BlockLinkReader getColReader(boolean isLoadFirstBlock) {
@@ -261,7 +335,75 @@ public class ColumnMetaData {
 	}
 	
 	/**
-	 * ȡп
+	 * 返回列是否记录了列块的过滤信息
+	 * @return
+	 */
+	public boolean hasBlockFilter() {
+		return filterBlockLink != null;
+	}
+	
+	/**
+	 * 取过滤信息读取器，列没有过滤信息时返回空
+	 * @return ObjectReader
+	 */
+	public ObjectReader getBlockFilterReader() {
+		if (filterBlockLink == null || filterBlockLink.isEmpty()) {
+			return null;
+		}
+		
+		BlockLinkReader reader = new BlockLinkReader(filterBlockLink);
+		try {
+			reader.loadFirstBlock();
+			return new ObjectReader(reader, groupTable.getBlockSize() - ComTable.POS_SIZE);
+		} catch (IOException e) {
+			reader.close();
+			throw new RQException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * 清空过滤信息，用于重写所有列块前
+	 */
+	void resetBlockFilter() {
+		if (filterBlockLink != null && !filterBlockLink.isEmpty()) {
+			filterBlockLink.setFirstBlockPos(filterBlockLink.firstBlockPos);
+			filterBlockLink.freeIndex = 0;
+		}
+	}
+	
+	/**
+	 * 过滤信息截止到指定块，用于回退到指定块时
+	 * @param block 保留的块数
+	 * @throws IOException
+	 */
+	void resetBlockFilter(int block) throws IOException {
+		if (filterBlockLink == null || filterBlockLink.isEmpty()) {
+			return;
+		}
+		
+		int blockSize = groupTable.getBlockSize();
+		BlockLinkReader filterReader = new BlockLinkReader(filterBlockLink);
+		ObjectReader reader;
+		try {
+			filterReader.loadFirstBlock();
+			reader = new ObjectReader(filterReader, blockSize - ComTable.POS_SIZE);
+		} catch (IOException e) {
+			filterReader.close();
+			throw e;
+		}
+		
+		for (int i = 0; i < block; ++i) {
+			BlockFilter.skip(reader);
+		}
+		
+		filterBlockLink.freeIndex = (int) (reader.position() % blockSize);
+		filterBlockLink.lastBlockPos = filterReader.position();
+		reader.close();
+		filterReader.close();
+	}
+	
+	/**
+	 * 取列块数据输出
 	 * @return
 	 */
 	public BufferWriter getColDataBufferWriter() {
@@ -269,7 +411,7 @@ public class ColumnMetaData {
 	}
 	
 	/**
-	 * ѵǰcolumnblockLinkϢ䵽info
+	 * 把当前column里的blockLink信息填充到info数组里
 	 * @param info
 	 */
 	public void getBlockLinkInfo(LongArray info) {
@@ -316,7 +458,7 @@ public class ColumnMetaData {
 	}
 	
 	/**
-	 * µ
+	 * 根据新的类型做调整
 	 * @param dataType
 	 */
 	public void adjustDataType(int newType) {
@@ -335,7 +477,7 @@ public class ColumnMetaData {
 		case DataBlockType.DATE:
 		case DataBlockType.DECIMAL:
 		case DataBlockType.STRING:
-			dataType = DataBlockType.OBJECT;//Ϊ
+			dataType = DataBlockType.OBJECT;//降级为对象类型
 			break;
 		case DataBlockType.SEQUENCE:
 			if (newType != DataBlockType.TABLE)
@@ -343,7 +485,7 @@ public class ColumnMetaData {
 			break;
 		case DataBlockType.TABLE:
 			if (newType == DataBlockType.SEQUENCE)
-				dataType = DataBlockType.SEQUENCE;//ΪSEQUENCE
+				dataType = DataBlockType.SEQUENCE;//降级为SEQUENCE
 			else
 				dataType = DataBlockType.OBJECT;
 			break;
@@ -66,7 +66,7 @@ public class ColumnOr extends IFilter {
 		}
 	}
 	
-	// ǷǶֶor
+	// 是否是多字段or
 	public boolean isMultiFieldOr() {
 		return true;
 	}
@@ -11,6 +11,7 @@ import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
 import com.scudata.dm.DataStruct;
+import com.scudata.dm.Env;
 import com.scudata.dm.FileGroup;
 import com.scudata.dm.FileObject;
 import com.scudata.dm.LongArray;
@@ -19,50 +20,51 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.FileSyncManager;
 
 /**
- * 
- * *1ļͷļʶСλáϢϢݽṹֶϢϢ¼޸ļ¼ɾ¼ÿθд
- * *TֿϢÿпļ¼
- * *CзֿϢλáάֶСֵ
- * *Cݣѹ
- * *T飬ÿθд
+ * 组表类
+ * 区块链*1：文件头（文件标识、区块大小、空闲位置、列信息、表信息、复列数据结构、分段信息、补块信息（插入记录数、修改记录数、删除记录数）），每次更改重写
+ * 区块链*T：表分块信息（每个列块的记录数）
+ * 区块链*C：列分块信息（列区块位置、维字段最大最小值）
+ * 区块链*C：列数据（按区块压缩）
+ * 区块链*T：补块，每次更改重写
  * @author runqian
  *
  */
 abstract public class ComTable implements IBlockStorage {
-	// ļ׺_SFΪ.ext
-	public static final String SF_SUFFIX = ".ext"; //ļ׺
+	// 补文件后缀由_SF改为.ext
+	public static final String SF_SUFFIX = ".ext"; //补文件后缀
 	
 	protected File file;
 	protected RandomAccessFile raf;
 	protected PhyTable baseTable;
 	
-	protected int blockSize; // С
-	protected transient int enlargeSize; // ļʱ
+	protected int blockSize; // 块大小
+	protected transient int enlargeSize; // 扩大文件时的增幅
 	protected BlockLink headerBlockLink;
 	
-	protected byte []reserve = new byte[32]; // ֽ1Ű汾ֽ2Ƿѹ0ѹ1ѹ
-	protected long freePos = 0; // λ
-	protected long fileSize; // ļܴС
+	protected byte []reserve = new byte[32]; // 保留，字节1存放版本，字节2存放是否压缩，0：压缩，1：不压缩
+	protected long freePos = 0; // 空闲位置
+	protected long fileSize; // 文件总大小
 	
-	// ѷļбԣ дʱ
-	protected String writePswHash; // дϣֵ汾1
-	protected String readPswHash; // ϣֵ汾1
+	// 密码已废弃，文件中保留这个属性， 读写时不再做密码检查
+	protected String writePswHash; // 写密码哈希值，版本1添加
+	protected String readPswHash; // 读密码哈希值，版本1添加
 	
-	protected String distribute; // ֲʽ汾2
+	protected String distribute; // 分布表达式，版本2添加
 
 	//private transient boolean canWrite = true;
 	//private transient boolean canRead = true;
 	
-	protected StructManager structManager; // еݽṹ
+	protected StructManager structManager; // 复列的数据结构
 	protected transient Context ctx;
 	
 	private transient ComTable sfGroupTable;
-	private transient Integer partition; // ļ
-	private transient int cursorCount;//򿪵αĸ
+	private transient Integer partition; // 组文件所属分区
+	private transient int cursorCount;//打开的游标的个数
+	private transient volatile MappedBlockReader mappedReader; // 内存映射读取器，Env.isMappedBlockRead()为true时使用
 	
 	/**
-	 * Ĳļ
-	 * @param file ļ
+	 * 获得组表的补文件
+	 * @param file 组表文件
 	 * @return
 	 */
 	public static File getSupplementFile(File file) {
@@ -72,7 +74,7 @@ abstract public class ComTable implements IBlockStorage {
 	}
 
 	/**
-	 * ƵǰĽṹļ
+	 * 复制当前组表的结构产生新组表文件
 	 * @param sf
 	 * @return
 	 */
@@ -81,7 +83,7 @@ abstract public class ComTable implements IBlockStorage {
 		ComTable newGroupTable = null;
 		
 		try {
-			//ļ
+			//生成新组表文件
 			if (this instanceof ColComTable) {
 				newGroupTable = new ColComTable(sf, (ColComTable)this);
 			} else {
@@ -97,8 +99,8 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * õļ
-	 * @param isCreate Ƿ½
+	 * 得到补文件对象
+	 * @param isCreate 是否新建
 	 * @return
 	 */
 	public ComTable getSupplement(boolean isCreate) {
@@ -121,7 +123,7 @@ abstract public class ComTable implements IBlockStorage {
 	}
 
 	/**
-	 * Ѿڵ
+	 * 打开已经存在的组表
 	 * @param file
 	 * @param ctx
 	 * @return
@@ -147,7 +149,7 @@ abstract public class ComTable implements IBlockStorage {
 	}
 
 	/**
-	 * Ѿڵ,־ڲʹ
+	 * 打开已经存在的组表,不检查出错日志，仅内部使用
 	 * @param file
 	 * @return
 	 * @throws IOException
@@ -172,7 +174,7 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * 򿪻
+	 * 打开基表
 	 * @param file
 	 * @param ctx
 	 * @return
@@ -187,7 +189,7 @@ abstract public class ComTable implements IBlockStorage {
 	}
 
 	/**
-	 * ȡ
+	 * 取基表
 	 * @return
 	 */
 	public PhyTable getBaseTable() {
@@ -195,7 +197,7 @@ abstract public class ComTable implements IBlockStorage {
 	}
 
 	/**
-	 * С
+	 * 设置区块大小
 	 * @param size
 	 */
 	protected void setBlockSize(int size) {
@@ -208,10 +210,10 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * ɾļ
+	 * 删除组表文件
 	 */
 	public void delete() {
-		// f.create@y()
+		// 用于f.create@y()
 		checkWritable();
 		ComTable sgt = getSupplement(false);
 		if (sgt != null) {
@@ -244,6 +246,12 @@ abstract public class ComTable implements IBlockStorage {
 				table.appendCache();
 			}
 			
+			MappedBlockReader reader = mappedReader;
+			if (reader != null) {
+				mappedReader = null;
+				reader.close();
+			}
+			
 			raf.close();
 			if (sfGroupTable != null) {
 				sfGroupTable.close();
@@ -271,11 +279,40 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * ȡһ
+	 * 读取一块数据
 	 */
-	public synchronized void loadBlock(long pos, byte []block) throws IOException {
-		raf.seek(pos);
-		raf.readFully(block);
+	public void loadBlock(long pos, byte []block) throws IOException {
+		MappedBlockReader reader = getMappedReader();
+		if (reader == null || !reader.read(pos, block)) {
+			synchronized(this) {
+				raf.seek(pos);
+				raf.readFully(block);
+			}
+		}
+	}
+	
+	/**
+	 * 取内存映射读取器，如果没有启用内存映射读则返回空
+	 * 文件重新打开后通道会变，此时重新创建读取器
+	 * @return MappedBlockReader
+	 */
+	private MappedBlockReader getMappedReader() {
+		if (!Env.isMappedBlockRead()) {
+			return null;
+		}
+		
+		MappedBlockReader reader = mappedReader;
+		if (reader == null || reader.getChannel() != raf.getChannel()) {
+			synchronized(this) {
+				reader = mappedReader;
+				if (reader == null || reader.getChannel() != raf.getChannel()) {
+					reader = new MappedBlockReader(raf.getChannel(), blockSize);
+					mappedReader = reader;
+				}
+			}
+		}
+		
+		return reader;
 	}
 
 	public void saveBlock(long pos, byte []block) throws IOException {
@@ -289,7 +326,7 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * һ¿
+	 * 申请一个新块
 	 */
 	public long applyNewBlock() throws IOException {
 		long pos = freePos;
@@ -323,8 +360,8 @@ abstract public class ComTable implements IBlockStorage {
 	}
 
 	/**
-	 * 񱣻
-	 * ĹؼϢݴ浽ʱļ
+	 * 开启事务保护
+	 * 把组表的关键信息暂存到临时文件
 	 * @param table
 	 * @throws IOException
 	 */
@@ -344,7 +381,7 @@ abstract public class ComTable implements IBlockStorage {
 		raf.getChannel().force(false);
 		raf.close();
 		
-		//Ÿµtable nameΪ˻ָ
+		//记着更新的table name，是为了恢复索引
 		if (table != null) {
 			if (table.indexNames == null)
 				return;
@@ -360,9 +397,9 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * ύ
-	 * ɾ־ļ
-	 * @param step 0ɾ־1ɾ־
+	 * 提交事务
+	 * 删除备份日志文件
+	 * @param step 0，删除组表日志；1，删除索引日志
 	 */
 	protected void commitTransaction(int step) {
 		if (step == 1) {
@@ -377,14 +414,14 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * ָ
-	 * дʱ쳣ʹָд֮ǰ״̬
+	 * 恢复事务
+	 * 当写组表时出现异常情况，使用这个方法来恢复到写事务之前的状态
 	 */
 	protected void restoreTransaction() {
 		String dir = file.getAbsolutePath() + "_TransactionLog";
 		FileObject logFile = new FileObject(dir);
 		if (logFile.isExists()) {
-			//Ҫrollback
+			//需要调用rollback
 			MessageManager mm = EngineMessage.get();
 			throw new RQException(file.getName() + mm.getMessage("dw.needRollback"));
 		}
@@ -392,7 +429,7 @@ abstract public class ComTable implements IBlockStorage {
 		dir = file.getAbsolutePath() + "_I_TransactionLog";
 		logFile = new FileObject(dir);
 		if (logFile.isExists()) {
-			//Ҫrollback
+			//需要调用rollback
 			MessageManager mm = EngineMessage.get();
 			throw new RQException(file.getName() + mm.getMessage("dw.needRollback"));
 		}
@@ -400,11 +437,11 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * 
-	 * @param file ļ
-	 * @param opt r,Ϊд档c,Ϊд档
+	 * 重置组表
+	 * @param file 组表文件
+	 * @param opt r,重置为行存。c,重置为列存。
 	 * @param ctx
-	 * @param distribute µķֲʽʡԭ
+	 * @param distribute 新的分布表达式，省略则用原来的
 	 * @return
 	 */
 	public boolean reset(File file, String opt, Context ctx, String distribute) {
@@ -416,8 +453,8 @@ abstract public class ComTable implements IBlockStorage {
 		boolean isCol = this instanceof ColComTable;
 		boolean hasQ = false;
 		boolean hasN = false;
-		boolean compress = false; // ѹ
-		boolean uncompress = false; // ѹ
+		boolean compress = false; // 压缩
+		boolean uncompress = false; // 不压缩
 		
 		if (opt != null) {
 			if (opt.indexOf('r') != -1) {
@@ -442,7 +479,7 @@ abstract public class ComTable implements IBlockStorage {
 			if (opt.indexOf('q') != -1) {
 				hasQ = true;
 				if (file != null) {
-					//@qʱf'
+					//有@q时不能有f'
 					MessageManager mm = EngineMessage.get();
 					throw new RQException("reset" + mm.getMessage("function.invalidParam"));
 				}
@@ -451,7 +488,7 @@ abstract public class ComTable implements IBlockStorage {
 			if (opt.indexOf('n') != -1) {
 				hasN = true;
 				if (file == null) {
-					//@nʱf'
+					//有@n时必须有f'
 					MessageManager mm = EngineMessage.get();
 					throw new RQException("reset" + mm.getMessage("function.invalidParam"));
 				}
@@ -501,7 +538,7 @@ abstract public class ComTable implements IBlockStorage {
 			newFile = file;
 		}
 		
-		// ɷֶѡǷ񰴵һֶηֶ
+		// 生成分段选项，是否按第一字段分段
 		String newOpt = null;
 		String segmentCol = baseTable.getSegmentCol();
 		if (segmentCol != null) {
@@ -510,7 +547,7 @@ abstract public class ComTable implements IBlockStorage {
 		
 		ComTable newGroupTable = null;
 		try {
-			//ļ
+			//生成新组表文件
 			if (isCol) {
 				newGroupTable = new ColComTable(newFile, colNames, distribute, newOpt, ctx);
 				if (compress) {
@@ -524,14 +561,14 @@ abstract public class ComTable implements IBlockStorage {
 				newGroupTable = new RowComTable(newFile, colNames, distribute, newOpt, ctx);
 			}
 			
-			//ֶ
+			//处理分段
 			boolean needSeg = baseTable.segmentCol != null;
 			if (needSeg) {
 				newGroupTable.baseTable.setSegmentCol(baseTable.segmentCol, baseTable.segmentSerialLen);
 			}
 			PhyTable newBaseTable = newGroupTable.baseTable;
 			
-			//ӱ
+			//建立基表的子表
 			ArrayList<PhyTable> tableList = baseTable.tableList;
 			for (PhyTable t : tableList) {
 				srcColNames = t.getColNames();
@@ -566,10 +603,10 @@ abstract public class ComTable implements IBlockStorage {
 				return Boolean.TRUE;
 			}
 			
-			//дݵ»
+			//写数据到新基表
 			ICursor cs = null;
 			if (hasQ) {
-				//ԼĴα꣨ļģ
+				//获得自己的纯游标（不含补文件的）
 				if (baseTable instanceof ColPhyTable) {
 					cs = new Cursor((ColPhyTable)baseTable);
 				} else {
@@ -580,9 +617,9 @@ abstract public class ComTable implements IBlockStorage {
 				cs = baseTable.cursor();
 			}
 			
-			int startBlock = -1;//hasQʱ
+			int startBlock = -1;//hasQ时才有用
 			if (hasQ) {
-				//ӻиݲǰĿ
+				//从基表附表中根据补区找最靠前的块号
 				startBlock = baseTable.getFirstBlockFromModifyRecord();
 				tableList = baseTable.tableList;
 				for (PhyTable t : tableList) {
@@ -597,7 +634,7 @@ abstract public class ComTable implements IBlockStorage {
 					newGroupTable.delete();
 					return Boolean.FALSE;
 				} else if (startBlock == 0) {
-					hasQ = false;//resetڵһ飬ȫreset
+					hasQ = false;//如果reset点就在第一块，则完全reset
 				} else {
 					((Cursor) cs).setSegment(startBlock, baseTable.getDataBlockCount());
 				}
@@ -605,11 +642,11 @@ abstract public class ComTable implements IBlockStorage {
 			newBaseTable.append(cs);
 			newBaseTable.appendCache();
 			
-			//дݵӱ
+			//写数据到基表的子表
 			for (PhyTable t : tableList) {
 				PhyTable newTable = newBaseTable.getAnnexTable(t.tableName);
 				if (hasQ) {
-					//ԼĴα꣨ļģ
+					//获得自己的纯游标（不含补文件的）
 					if (t instanceof ColPhyTable) {
 						cs = new Cursor((ColPhyTable)t, t.allColNames);
 					} else {
@@ -631,7 +668,7 @@ abstract public class ComTable implements IBlockStorage {
 			}
 			
 			if (hasQ) {
-				//resetԭֹ
+				//reset原组表，截止到块号
 				long pos, freePos;
 				freePos = baseTable.resetByBlock(startBlock);
 				for (PhyTable t : tableList) {
@@ -645,7 +682,7 @@ abstract public class ComTable implements IBlockStorage {
 				readHeader();
 				tableList = baseTable.tableList;
 				
-				//д֮
+				//写入块号之后的数据
 				cs = newBaseTable.cursor();
 				baseTable.append(cs);
 				ArrayList<PhyTable> newTableList = newBaseTable.tableList;
@@ -655,18 +692,18 @@ abstract public class ComTable implements IBlockStorage {
 					tableList.get(i).append(cs);
 				}
 				
-				//ɾʱ
+				//删除临时组表
 				newGroupTable.close();
 				newGroupTable.file.delete();
 				
-				//ؽļ
+				//重建索引文件
 				baseTable.resetIndex(ctx);
 				newTableList = baseTable.tableList;
 				for (PhyTable table : newTableList) {
 					table.resetIndex(ctx);
 				}
 				
-				//hasQʱôcuboid
+				//hasQ时不用处理cuboid
 				return Boolean.TRUE;
 			} else {
 				if (sgt != null) {
@@ -674,8 +711,8 @@ abstract public class ComTable implements IBlockStorage {
 				}
 			}
 			
-			//ûf'ͽ
-			//
+			//如果没有f'参数就建立索引
+			//基表索引
 			String []indexNames = baseTable.indexNames;
 			if (indexNames != null) {
 				String [][]indexFields = baseTable.indexFields;
@@ -684,7 +721,7 @@ abstract public class ComTable implements IBlockStorage {
 					newBaseTable.addIndex(indexNames[j], indexFields[j], indexValueFields[j]);
 				}
 			}
-			//ӱ
+			//子表索引
 			ArrayList<PhyTable> newTableList = newBaseTable.tableList;
 			len = tableList.size();
 			for (int i = 0; i < len; i++) {
@@ -699,14 +736,14 @@ abstract public class ComTable implements IBlockStorage {
 				}
 			}
 			
-			//cuboid
+			//基表cuboid
 			String []cuboids = baseTable.cuboids;
 			if (cuboids != null) {
 				for (String cuboid : cuboids) {
 					newBaseTable.addCuboid(cuboid);
 				}
 			}
-			//ӱcuboid
+			//子表cuboid
 			for (int i = 0; i < len; i++) {
 				PhyTable oldTable = tableList.get(i);
 				PhyTable newTable = newTableList.get(i);
@@ -723,7 +760,7 @@ abstract public class ComTable implements IBlockStorage {
 			throw new RQException(e.getMessage(), e);
 		}
 		
-		//ɾɵ
+		//删除旧的组表
 		String path = this.file.getAbsolutePath();
 		close();
 		boolean b = this.file.delete();
@@ -738,7 +775,7 @@ abstract public class ComTable implements IBlockStorage {
 			throw new RQException(e.getMessage(), e);
 		}
 		
-		//ؽļcuboid
+		//重建索引文件和cuboid
 		newGroupTable.baseTable.resetIndex(ctx);
 		newGroupTable.baseTable.resetCuboid(ctx);
 		ArrayList<PhyTable> newTableList = newGroupTable.baseTable.tableList;
@@ -752,11 +789,11 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * ѵǰдһµļ
-	 * @param fileGroup ļ
-	 * @param opt r,Ϊд档c,Ϊд档
+	 * 把当前组表写出到一个新的文件组
+	 * @param fileGroup 文件组
+	 * @param opt r,重置为行存。c,重置为列存。
 	 * @param ctx
-	 * @param distribute µķֲʽʡԭ
+	 * @param distribute 新的分布表达式，省略则用原来的
 	 * @return
 	 */
 	public boolean resetFileGroup(FileGroup fileGroup, String opt, Context ctx, String distribute) {
@@ -764,7 +801,7 @@ abstract public class ComTable implements IBlockStorage {
 			distribute = this.distribute;
 		}
 		boolean isCol = this instanceof ColComTable;
-		boolean uncompress = false; // ѹ
+		boolean uncompress = false; // 不压缩
 		if (opt != null) {
 			if (opt.indexOf('r') != -1) {
 				isCol = false;
@@ -805,7 +842,7 @@ abstract public class ComTable implements IBlockStorage {
 			}
 		}
 		
-		// ɷֶѡǷ񰴵һֶηֶ
+		// 生成分段选项，是否按第一字段分段
 		String newOpt = "y";
 		String segmentCol = baseTable.getSegmentCol();
 		if (segmentCol != null) {
@@ -822,12 +859,12 @@ abstract public class ComTable implements IBlockStorage {
 			newOpt += 'u';
 		}
 		try {
-			//д
+			//写基表
 			PhyTableGroup newTableGroup = fileGroup.create(colNames, distribute, newOpt, ctx);
 			ICursor cs = baseTable.cursor();
 			newTableGroup.append(cs, "xi");
 			
-			//дӱ
+			//写子表
 			ArrayList<PhyTable> tableList = baseTable.tableList;
 			for (PhyTable t : tableList) {
 				len = t.colNames.length;
@@ -849,7 +886,7 @@ abstract public class ComTable implements IBlockStorage {
 				}
 				IPhyTable newTable = newTableGroup.createAnnexTable(colNames, t.getSerialBytesLen(), t.tableName);
 				
-				//α꣬ȡֶҪֶΣΪҪֲ
+				//附表的游标，取出字段里要包含基表所有字段，这是因为需要计算分布
 				String[] allColNames = Arrays.copyOf(srcColNames, srcColNames.length + t.colNames.length);
 				System.arraycopy(t.colNames, 0, allColNames, srcColNames.length, t.colNames.length);
 				cs = t.cursor(allColNames);
@@ -866,12 +903,12 @@ abstract public class ComTable implements IBlockStorage {
 	public abstract long[] getBlockLinkInfo();
 	
 	/**
-	 * ԱȿϢ
-	 * @param blockLinkInfo ļϢ
-	 * @return ÿҪͬʼַ
+	 * 对比块链信息
+	 * @param blockLinkInfo 新组表文件的区块信息
+	 * @return 每个需要同步的区块链的起始地址
 	 */
 	public long[] cmpBlockLinkInfo(long []blockLinkInfo) {
-		//ĶǾļ
+		//调用这个方法的对象是旧文件
 		long []localBlockInfo = getBlockLinkInfo();
 		int localSize = localBlockInfo.length / 4;
 		int size = blockLinkInfo.length / 4;
@@ -884,7 +921,7 @@ abstract public class ComTable implements IBlockStorage {
 			int blockCount = (int) blockLinkInfo[i * 4 + 3];
 			
 			if (firstBlockPos >= fileSize) {
-				//file size򲻴
+				//如果大于file size则不处理
 				continue;
 			}
 			boolean find = false;
@@ -896,12 +933,12 @@ abstract public class ComTable implements IBlockStorage {
 				if (firstBlockPos == localFirstBlockPos) {
 					find = true;
 					if (lastBlockPos < localLastBlockPos) {
-						//쳣
+						//异常
 					}
 					if ((lastBlockPos != localLastBlockPos) ||
 							(freeIndex != localFreeIndex) || 
 							(blockCount !=localBlockCount)) {
-						//ҵ˵ǲȣҲҪͬ
+						//找到了但是不相等，也需要同步
 						posArray.add(localLastBlockPos);
 					}
 					break;
@@ -909,7 +946,7 @@ abstract public class ComTable implements IBlockStorage {
 				
 			}
 			if (!find) {
-				//ûҵҪͬ
+				//没找到，需要同步
 				posArray.add(firstBlockPos);
 			}
 		}
@@ -920,14 +957,14 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * õַͬ
-	 * @param positions ÿҪͬʼַ
-	 * @return Ҫͬеַ
+	 * 得到同步地址
+	 * @param positions 每个需要同步的区块链的起始地址
+	 * @return 需要同步的所有地址
 	 */
 	public long[] getSyncPosition(long []positions) {
-		//blockLink Ҫͬ
-		//headerBlockLink ŵһͬ
-		//ļβֻر
+		//补区blockLink 都要同步
+		//headerBlockLink 会放到最后一步同步
+		//文件尾增量部分会特别处理
 		LongArray posArray = new LongArray(1024);
 		byte []block = new byte[5];
 		for (int i = 0, len = positions.length; i < len; ++i) {
@@ -958,7 +995,7 @@ abstract public class ComTable implements IBlockStorage {
 
 	/**
 	 * 
-	 * @return Ҫͬеַ
+	 * @return 补区需要同步的所有地址
 	 */
 	public long[] getModifyPosition() {
 		int count = 1 + baseTable.tableList.size();
@@ -1003,11 +1040,11 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * ؿϵͷַ
+	 * 返回块链上的所有头地址
 	 * @return
 	 */
 	public long[] getHeaderPosition() {
-		//headerBlockLink ŵһͬ
+		//headerBlockLink 会放到最后一步同步
 		LongArray posArray = new LongArray(1024);
 		byte []block = new byte[5];
 		long pos = 0;
@@ -1045,16 +1082,16 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * Ƿ
-	 * @return true룬falseû
+	 * 返回是否设置了密码
+	 * @return true：有密码，false：没密码
 	 */
 	public boolean hasPassword() {
 		return writePswHash != null || readPswHash != null;
 	}
 	
 	/**
-	 * Ҫô˺ܷ
-	 * @param psw д߶룬дȿɶֿдǶֻɶ
+	 * 设置了密码的组表需要调用此函数才能访问
+	 * @param psw 写密码或者读密码，如果是写密码则既可读又可写，如果是读密码则只可读
 	 */
 	public void checkPassword(String psw) {
 		/*if (writePswHash != null) {
@@ -1077,7 +1114,7 @@ abstract public class ComTable implements IBlockStorage {
 				MD5 md5 = new MD5();
 				canRead = md5.getMD5ofStr(psw).equals(readPswHash);
 				if (!canRead) {
-					//added by hhw 2019.6falseдҲΪfalse
+					//added by hhw 2019.6如果读是false写也就为false
 					canWrite = false;
 					MessageManager mm = EngineMessage.get();
 					throw new RQException(mm.getMessage("cellset.pswError"));
@@ -1101,7 +1138,7 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * Ƿд
+	 * 返回是否可写
 	 * @return
 	 */
 	public boolean canWrite() {
@@ -1109,7 +1146,7 @@ abstract public class ComTable implements IBlockStorage {
 	}
 	
 	/**
-	 * Ƿɶ
+	 * 返回是否可读
 	 * @return
 	 */
 	public boolean canRead() {
@@ -1120,17 +1157,17 @@ abstract public class ComTable implements IBlockStorage {
 		return FileSyncManager.getSyncObject(file);
 	}
 	
-	// ȡֲʽ
+	// 取分布表达式串
 	public String getDistribute() {
 		return distribute;
 	}
 	
-	// Ƿѹ
+	// 返回是否压缩列数据
 	public boolean isCompress() {
 		return reserve[1] == 0;
 	}
 	
-	// Ƿѹ
+	// 设置是否压缩列数据
 	public void setCompress(boolean isCompress) {
 		if (isCompress) {
 			reserve[1] = 0;
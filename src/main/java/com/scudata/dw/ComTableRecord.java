@@ -7,15 +7,15 @@ import java.io.ObjectOutput;
 import com.scudata.dm.DataStruct;
 import com.scudata.dm.Record;
 /**
- * ¼
+ * 组表记录类
  * @author runqian
  *
  */
 class ComTableRecord extends Record {
-	private long recordSeq; // ¼
+	private long recordSeq; // 记录序号
 	
 	/**
-	 * лʱʹ
+	 * 序列化时使用
 	 */
 	public ComTableRecord() {}
 
@@ -7,20 +7,22 @@ import com.scudata.expression.Node;
 import com.scudata.util.Variant;
 
 /**
- * 
- * жһǷڸ
+ * 包含过滤器类
+ * 用于判断一个对象是否包含在给定的序列里
  * @author runqian
  *
  */
 public class ContainFilter extends IFilter {
-	public static final int BINARYSEARCH_COUNT = 3; // Ԫظڴֵöַ
+	public static final int BINARYSEARCH_COUNT = 3; // 元素个数大于此值采用二分法查找
+	public static final int MAX_BLOCKFILTER_COUNT = 1024; // 元素个数不大于此值时用列块过滤信息判断
 	private IArray values;
+	private Object []blockFilterValues; // 用于列块过滤信息判断的值
 	/**
-	 * 
-	 * @param column ж
-	 * @param priority ȼ
-	 * @param sequence 
-	 * @param opt bʱʾsequenceѾ
+	 * 构造器
+	 * @param column 列对象
+	 * @param priority 优先级
+	 * @param sequence 给定的序列
+	 * @param opt 等于b时表示sequence已经有序
 	 */
 	public ContainFilter(ColumnMetaData column, int priority, Sequence sequence, String opt) {
 		super(column, priority);
@@ -40,11 +42,11 @@ public class ContainFilter extends IFilter {
 	}
 	
 	/**
-	 *  (д)
-	 * @param columnName 
-	 * @param priority ȼ
-	 * @param sequence 
-	 * @param opt bʱʾsequenceѾ
+	 * 构造器 (用于行存)
+	 * @param columnName 列名称
+	 * @param priority 优先级
+	 * @param sequence 给定的序列
+	 * @param opt 等于b时表示sequence已经有序
 	 */
 	public ContainFilter(String columnName, int priority, Sequence sequence, String opt) {
 		this.columnName = columnName;
@@ -63,7 +65,7 @@ public class ContainFilter extends IFilter {
 		IArray values = this.values;
 		int len = values.size();
 		
-		// ַСֵеλ
+		// 二分法查找最小值在数组中的位置
 		int low1 = 1;
 		int high1 = len;
 		while (low1 <= high1) {
@@ -78,12 +80,12 @@ public class ContainFilter extends IFilter {
 				return true; // key found
 		}
 		
-		// Сֵȼֵ߿Сֵֵûзļ¼
+		// 块最小值比集合最大值大或者块最小值等于最大值则没有符合条件的记录
 		if (low1 >= len || Variant.isEquals(minValue, maxValue)) {
 			return false;
 		}
 		
-		// ֵַеλ
+		// 二分法查找最大值在数组中的位置
 		int low2 = 0;
 		int high2 = len - 1;
 		while (low2 <= high2) {
@@ -98,7 +100,26 @@ public class ContainFilter extends IFilter {
 				return true; // key found
 		}
 		
-		// СֵͿֵڼеĲλͬûзļ¼
+		// 如果块最小值和块最大值在集合中的插入位置相同则没有符合条件的记录
 		return low1 != low2;
 	}
+	
+	protected Object[] getBlockFilterValues() {
+		if (blockFilterValues == null) {
+			IArray values = this.values;
+			int len = values.size();
+			if (len > MAX_BLOCKFILTER_COUNT) {
+				return null;
+			}
+			
+			Object []result = new Object[len];
+			for (int i = 0; i < len; ++i) {
+				result[i] = values.get(i + 1);
+			}
+			
+			blockFilterValues = result;
+		}
+		
+		return blockFilterValues;
+	}
 }
\ No newline at end of file
@@ -49,24 +49,24 @@ import com.scudata.util.EnvUtil;
 import com.scudata.util.Variant;
 
 /**
- * 
- * ̳дڴ洢һԤܽ
+ * 立方体类
+ * 继承自行存组表，用于存储一个表的预汇总结果
  * @author runqian
  *
  */
 public class Cuboid extends RowComTable {
-	public static final String CUBE_PREFIX = "_CUBOID@";//ļǰ׺
-	private static final int FIXED_OBJ_LEN = 9;//ֶεĳ
-	//ļͷ
-	protected String[] exps;//ʽ
-	protected String[] newExps;//ܱʽ
-	private long srcCount;//ԭѷ 
+	public static final String CUBE_PREFIX = "_CUBOID@";//立方体文件前缀
+	private static final int FIXED_OBJ_LEN = 9;//定长字段的长度
+	//文件头增加以下内容
+	protected String[] exps;//分组表达式
+	protected String[] newExps;//汇总表达式
+	private long srcCount;//原表里已分组条数 
 
 	protected CuboidTable baseTable;
 	
 	/**
-	 * ,鱸ݱ־
-	 * @param file ļ
+	 * 打开,会检查备份标志
+	 * @param file 立方体文件
 	 * @param ctx
 	 * @throws IOException
 	 */
@@ -81,15 +81,15 @@ public class Cuboid extends RowComTable {
 	}
 
 	/**
-	 * ½һ
-	 * @param file ļ
-	 * @param colNames 
-	 * @param serialBytesLen ÿеźų
+	 * 新建一个立方体
+	 * @param file 文件对象
+	 * @param colNames 列名称
+	 * @param serialBytesLen 每个列的排号长度
 	 * @param ctx
-	 * @param writePsw д
-	 * @param readPsw 
-	 * @param exps ʽ
-	 * @param newExps ܱʽ
+	 * @param writePsw 写密码
+	 * @param readPsw 读密码
+	 * @param exps 分组表达式
+	 * @param newExps 汇总表达式
 	 * @throws IOException
 	 */
 	public Cuboid(File file, String []colNames, int []serialBytesLen, Context ctx, 
@@ -101,7 +101,7 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * ļͷ
+	 * 读文件头
 	 */
 	protected void readHeader() throws IOException {
 		Object syncObj = getSyncObject();
@@ -135,7 +135,7 @@ public class Cuboid extends RowComTable {
 			blockSize = reader.readInt32();
 			headerBlockLink.readExternal(reader);
 			
-			reader.read(reserve); // λ
+			reader.read(reserve); // 保留位
 			freePos = reader.readLong40();
 			fileSize = reader.readLong40();
 			
@@ -175,7 +175,7 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * дļͷ
+	 * 写出文件头
 	 */
 	public void writeHeader() throws IOException {
 		Object syncObj = getSyncObject();
@@ -193,17 +193,17 @@ public class Cuboid extends RowComTable {
 			writer.writeInt32(blockSize);
 			headerBlockLink.writeExternal(writer);
 			
-			reserve[0] = 3; // 1룬2ӷֲ3Ԥ
-			writer.write(reserve); // λ
+			reserve[0] = 3; // 1增加密码，2增加分布函数，3增加预分组
+			writer.write(reserve); // 保留位
 			
 			writer.writeLong40(freePos);
 			writer.writeLong40(fileSize);
 			
-			// Ա汾1ӵ
+			// 下面两个成员版本1增加的
 			writer.writeString(writePswHash);
 			writer.writeString(readPswHash);
 			
-			writer.writeString(distribute); // 汾2
+			writer.writeString(distribute); // 版本2增加
 	
 			ArrayList<DataStruct> dsList = structManager.getStructList();
 			if (dsList != null) {
@@ -225,7 +225,7 @@ public class Cuboid extends RowComTable {
 			headerWriter.rewriteBlocks(writer.finish());
 			headerWriter.close();
 			
-			// дheaderBlockLink
+			// 重写headerBlockLink
 			writer.write('r');
 			writer.write('q');
 			writer.write('d');
@@ -252,7 +252,7 @@ public class Cuboid extends RowComTable {
 	}
 
 	/**
-	 * ʽʽԤֶƥ''ƥΪǱʽ
+	 * 格式化表达式，如果跟预分组字段匹配则加''，如果不匹配则认为是表达式
 	 * @param exps
 	 * @param ds
 	 */
@@ -260,21 +260,21 @@ public class Cuboid extends RowComTable {
 		int expsLen = exps == null ? 0 : exps.length;
 		for (int i = 0; i < expsLen; i++) {
 			if (ds.getFieldIndex(exps[i].getIdentifierName()) >= 0) {
-				//ֱӾԤֶ
+				//如果直接就是预分组的字段
 				exps[i] = new Expression("'" + exps[i].getIdentifierName() + "'");
 			}
 		}
 	}
 	
 	/**
-	 * ȡ÷ʽexps;ۺϱʽnewExpsõֶΣԭα
-	 * @param srcTable ԭ
-	 * @param exps ʽ
-	 * @param newExps ۺϱʽ
-	 * @param w ˱ʽ
-	 * @param hasM Ƿ·
-	 * @param n ·
-	 * @param ctx 
+	 * 取得分组表达式exps和聚合表达式newExps里用到的字段，并返回原表游标
+	 * @param srcTable 原表
+	 * @param exps 分组表达式
+	 * @param newExps 聚合表达式
+	 * @param w 过滤表达式
+	 * @param hasM 是否多路
+	 * @param n 并行路数
+	 * @param ctx 上下文
 	 * @return
 	 */
 	private static ICursor makeCursor(PhyTable srcTable, Expression []exps, Expression []newExps,
@@ -301,22 +301,22 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * 
-	 * @param exps ʽ
-	 * @param names ʽ
-	 * @param newExps ܱʽ
-	 * @param newNames ܱʽ
-	 * @param srcTable Ҫ
-	 * @param w 
-	 * @param hasM Ƿ
-	 * @param n 
+	 * 分组
+	 * @param exps 分组表达式
+	 * @param names 分组表达式新名字
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总表达式新名字
+	 * @param srcTable 要分组的组表
+	 * @param w 过滤条件
+	 * @param hasM 是否并行
+	 * @param n 并行数
 	 * @param option
 	 * @param ctx
 	 * @return
 	 */
 	public static Sequence cgroups(String []expNames, String []names, String []newExpNames, String []newNames,
 			PhyTable srcTable, Expression w, boolean hasM, int n, String option,  Context ctx) {
-		//ע⣬cgroups_õǰļcuboid
+		//注意，cgroups_得到的是包含补文件cuboid的
 		
 		return cgroups_(expNames, names, newExpNames, newNames, srcTable, w, hasM, n, option, ctx);
 		
@@ -324,23 +324,23 @@ public class Cuboid extends RowComTable {
 		if (tmd == null) {
 			return seq;
 		} else {			
-			//֯ʽ
+			//组织分组表达式
 			int count = names.length;
 			Expression exps[] = new Expression[count];
 			for (int i = 0; i < count; i++) {
 				exps[i] = new Expression(names[i]);
 			}
 			
-			//֯پۺϱʽ
-			Expression newExps[] = new Expression[count = newNames.length];//洢Ҫۺϵԭֶ
+			//组织再聚合表达式
+			Expression newExps[] = new Expression[count = newNames.length];//用来存储要聚合的原字段
 			for (int i = 0, len = count; i < len; i++) {
 				String str = newExpNames[i];
-				//countپۺϣҪΪۼ
+				//对count再聚合，要变为累加
 				if (str.indexOf("count(") != -1) {
 					str = str.replaceFirst("count", "sum");
 				}
 				
-				//پۺʱҪ滻һֶ
+				//再聚合时要替换一下字段名
 				String sub = str.substring(str.indexOf('(') + 1, str.indexOf(')'));
 				str = str.replaceAll(sub, "'" + newNames[i] + "'");
 				newExps[i] = new Expression(str);
@@ -384,12 +384,12 @@ public class Cuboid extends RowComTable {
 		Object obj = findCuboid(srcTable, expNames, newExpNames, w, ctx);
 		try {
 			if (obj instanceof ArrayList) {
-				//жԤ
+				//有多个预分组立方体
 				@SuppressWarnings("unchecked")
 				ArrayList<PhyTable> tableList = (ArrayList<PhyTable>) obj;
 				int size = tableList.size();
 				if (size == 0) {
-					//ûԤ
+					//没有预分组立方体
 					ICursor cs = makeCursor(srcTable, exps, newExps, w, hasM, n, ctx);
 					return cs.groups(exps, names, newExps, newNames, option, ctx);
 				} else {
@@ -397,7 +397,7 @@ public class Cuboid extends RowComTable {
 					if (size == 1) {
 						table = (CuboidTable) tableList.get(0);
 					} else {
-						//ѡһ¼ٵ
+						//选一个记录条数最少的
 						int idx = 0;
 						long cnt = tableList.get(0).getTotalRecordCount();
 						for (int i = 1; i < size; i++) {
@@ -415,7 +415,7 @@ public class Cuboid extends RowComTable {
 						table = (CuboidTable) tableList.get(idx);
 					}
 
-					//ԤǷµ
+					//检查预分组是否是最新的
 					if (((Cuboid) table.groupTable).getSrcCount() != srcTable.getActualRecordCount()) {
 						try {
 							((Cuboid) table.groupTable).update(srcTable);
@@ -430,15 +430,15 @@ public class Cuboid extends RowComTable {
 					}
 
 					ArrayList<Expression> fieldExpList = new ArrayList<Expression>();
-					Expression[] fieldExps;//پۺʱҪȡֶ
+					Expression[] fieldExps;//再聚合时要取出来的字段
 					int expsLen = exps == null ? 0 : exps.length;
 					DataStruct ds = table.getDataStruct();
 					for (int i = 0; i < expsLen; i++) {
 						if (ds.getFieldIndex(expNames[i]) >= 0) {
-							//ֱӾԤֶ
+							//如果直接就是预分组的字段
 							fieldExpList.add(new Expression("'" + expNames[i] + "'"));
 						} else {
-							//ȡ漰ֶ
+							//提取涉及到的字段
 							Expression exp = new Expression(expNames[i]);
 							ArrayList<String> strList = new ArrayList<String>();
 							exp.getUsedFields(ctx, strList);
@@ -453,19 +453,19 @@ public class Cuboid extends RowComTable {
 					fieldExps = new Expression[fieldExpList.size()];
 					fieldExpList.toArray(fieldExps);
 
-					Expression newSrcExps[] = new Expression[newExps.length];//洢Ҫۺϵԭֶ
+					Expression newSrcExps[] = new Expression[newExps.length];//用来存储要聚合的原字段
 					for (int i = 0, len = newExps.length; i < len; i++) {
 						String str = new String(newExps[i].getIdentifierName());
 						if (newNames[i] == null) {
 							newNames[i] = str;
 						}
 
-						//countپۺϣҪΪۼ
+						//对count再聚合，要变为累加
 						if (str.indexOf("count(") != -1) {
 							str = str.replaceFirst("count", "sum");
 						}
 
-						//ԤپۺʱҪ滻һֶ
+						//对预分组立方体再聚合时要替换一下字段名
 						String sub = str.substring(str.indexOf('(') + 1, str.indexOf(')'));
 						str = str.replaceAll(sub, "'" + newExpNames[i] + "'");
 						newExps[i] = new Expression(str);
@@ -475,13 +475,13 @@ public class Cuboid extends RowComTable {
 						newSrcExps[i] = new Expression(sub);
 					}
 
-					//ʱŻ
+					//处理时间区间优化
 					while (w != null) {
-						//ȡڷֶΣж
+						//从立方体里取出来日期分组的字段，可能有多个
 						ArrayList<Object> list = new ArrayList<Object>();
 						getDateFields(table, list);
 
-						//Щֶȥƥw
+						//用这些日期字段去匹配w
 						int count = list.size();
 						if (count > 0) {
 							Object[] interval = new Object[2];
@@ -491,12 +491,12 @@ public class Cuboid extends RowComTable {
 								String fname = (String) list.get(i);
 								getDateInterval(fname, w.getHome(), interval, isEQ, otherNodes, (Integer) list.get(i + 1), ctx);
 								if (interval[0] != null || interval[1] != null) {
-									//wʱ
+									//如果w里有时间区间
 									Node nodes[] = makeNode(fname, table.colNames, interval, isEQ,
 											(Integer) list.get(i + 1));
 									if (nodes != null) {
 										if (nodes[0] == null) {
-											//ֻҪ
+											//只需要访问立方体
 											otherNodes.add(nodes[1]);
 											Expression w2 = conbineNodes(otherNodes);
 											ICursor cursor2 = table.cursor(null, w2, ctx);
@@ -529,11 +529,11 @@ public class Cuboid extends RowComTable {
 								otherNodes.clear();
 							}
 						} else {
-							//ûֶ
+							//没有日期字段
 							break;
 						}
 
-						//޷ʹԤ(wСĵλ粻һ꣬Żеʵټһ)
+						//无法使用预分组立方体(当w区间小于立方体分组的单位，比如不够一个年，才会运行到这里，实际上这里可以再检查下一个立方体)
 						for (int i = 0; i < newExps.length; i++) {
 							newExps[i] = new Expression(newNames[i]);
 						}
@@ -581,7 +581,7 @@ public class Cuboid extends RowComTable {
 					hasM = false;
 				}
 
-				//תw
+				//转换w
 				if (w != null) {
 					String str = w.getIdentifierName();
 					for (int i = 0, len = names.length; i < len; i++) {
@@ -620,17 +620,17 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * Ⱥcgroups
-	 * @param exps ʽ
-	 * @param names ʽ
-	 * @param newExps ܱʽ
-	 * @param newNames ܱʽ
-	 * @param srcTable Ҫ
-	 * @param w 
-	 * @param hasM Ƿ
-	 * @param n ·
-	 * @param option 
-	 * @param ctx 
+	 * 集群表的cgroups
+	 * @param exps 分组表达式
+	 * @param names 分组表达式新名字
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总表达式新名字
+	 * @param srcTable 要分组的组表
+	 * @param w 过滤条件
+	 * @param hasM 是否并行
+	 * @param n 并行路数
+	 * @param option 分组属性
+	 * @param ctx 上下文
 	 * @return
 	 */
 	public static Sequence cgroups(String []expNames, String []names, String []newExpNames, String []newNames,
@@ -668,12 +668,12 @@ public class Cuboid extends RowComTable {
 		Object obj = findCuboid(srcTable, expNames, newExpNames, w, ctx);
 		try {
 			if (obj instanceof ArrayList) {
-				//жԤ
+				//有多个预分组立方体
 				@SuppressWarnings("unchecked")
 				ArrayList<PhyTable> tableList = (ArrayList<PhyTable>) obj;
 				int size = tableList.size();
 				if (size == 0) {
-					//ûԤ
+					//没有预分组立方体
 					ClusterCursor cc = srcTable.cursor(null, null, null, null, null, null, 0, null, ctx);
 					return (Sequence) cc.groups(exps, names, newExps, newNames, option, ctx);
 				} else {
@@ -681,7 +681,7 @@ public class Cuboid extends RowComTable {
 					if (size == 1) {
 						table = (CuboidTable) tableList.get(0);
 					} else {
-						//ѡһ¼ٵ
+						//选一个记录条数最少的
 						int idx = 0;
 						long cnt = tableList.get(0).getTotalRecordCount();
 						for (int i = 1; i < size; i++) {
@@ -700,15 +700,15 @@ public class Cuboid extends RowComTable {
 					}
 
 					ArrayList<Expression> fieldExpList = new ArrayList<Expression>();
-					Expression[] fieldExps;//پۺʱҪȡֶ
+					Expression[] fieldExps;//再聚合时要取出来的字段
 					int expsLen = exps == null ? 0 : exps.length;
 					DataStruct ds = table.getDataStruct();
 					for (int i = 0; i < expsLen; i++) {
 						if (ds.getFieldIndex(expNames[i]) > 0) {
-							//ֱӾԤֶ
+							//如果直接就是预分组的字段
 							fieldExpList.add(new Expression("'" + expNames[i] + "'"));
 						} else {
-							//ȡ漰ֶ
+							//提取涉及到的字段
 							Expression exp = new Expression(expNames[i]);
 							ArrayList<String> strList = new ArrayList<String>();
 							exp.getUsedFields(ctx, strList);
@@ -723,19 +723,19 @@ public class Cuboid extends RowComTable {
 					fieldExps = new Expression[fieldExpList.size()];
 					fieldExpList.toArray(fieldExps);
 
-					Expression newSrcExps[] = new Expression[newExps.length];//洢Ҫۺϵԭֶ
+					Expression newSrcExps[] = new Expression[newExps.length];//用来存储要聚合的原字段
 					for (int i = 0, len = newExps.length; i < len; i++) {
 						String str = new String(newExps[i].getIdentifierName());
 						if (newNames[i] == null) {
 							newNames[i] = str;
 						}
 
-						//countپۺϣҪΪۼ
+						//对count再聚合，要变为累加
 						if (str.indexOf("count(") != -1) {
 							str = str.replaceFirst("count", "sum");
 						}
 
-						//ԤپۺʱҪ滻һֶ
+						//对预分组立方体再聚合时要替换一下字段名
 						String sub = str.substring(str.indexOf('(') + 1, str.indexOf(')'));
 						str = str.replaceAll(sub, "'" + newExpNames[i] + "'");
 						newExps[i] = new Expression(str);
@@ -778,7 +778,7 @@ public class Cuboid extends RowComTable {
 					hasM = false;
 				}
 
-				//תw
+				//转换w
 				if (w != null) {
 					String str = w.getIdentifierName();
 					for (int i = 0, len = names.length; i < len; i++) {
@@ -817,13 +817,13 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * Ԥٷ
-	 * @param sub0 ֶ
-	 * @param sub1 ʽ
-	 * @param srcTable Ҫ
-	 * @param w 
-	 * @param hasM Ƿ
-	 * @param n 
+	 * 利用预分组进行再分组
+	 * @param sub0 分组字段
+	 * @param sub1 分组表达式
+	 * @param srcTable 要分组的组表
+	 * @param w 过滤条件
+	 * @param hasM 是否并行
+	 * @param n 并行数
 	 * @param opt
 	 * @param ctx
 	 * @return
@@ -866,11 +866,11 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * Һʵ
-	 * @param srcTable ԭ
-	 * @param names Ҫֶ
-	 * @param expNames ۺϱʽ
-	 * @param w ˱ʽ
+	 * 查找合适的立方体
+	 * @param srcTable 原表
+	 * @param names 要分组的字段名称
+	 * @param expNames 聚合表达式名称
+	 * @param w 过滤表达式
 	 * @return
 	 */
 	public static Object findCuboid(PhyTable srcTable, String names[], String expNames[], Expression w) {
@@ -878,11 +878,11 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * Һʵ
-	 * @param srcTable ԭ
-	 * @param names Ҫֶ
-	 * @param expNames ۺϱʽ
-	 * @param w ˱ʽ
+	 * 查找合适的立方体
+	 * @param srcTable 原表
+	 * @param names 要分组的字段名称
+	 * @param expNames 聚合表达式名称
+	 * @param w 过滤表达式
 	 * @param ctx
 	 * @return
 	 */
@@ -894,8 +894,8 @@ public class Cuboid extends RowComTable {
 		if (cuboids == null) return tableList;
 		ArrayList<PhyTable> tableList2 = new ArrayList<PhyTable>();
 		
-		//expsavgپۺ
-		boolean flag = false;//ʾپۺ
+		//检查exps，avg不能做再聚合
+		boolean flag = false;//表示不能再聚合
 		for (String exp : expNames) {
 			if (exp.indexOf("avg(") != -1) {
 				flag = true;//return tableList;
@@ -934,7 +934,7 @@ public class Cuboid extends RowComTable {
 				} else if ( match == 2 && !flag) {
 					tableList2.add(baseTable);
 				} else if (match == 3) {
-					//ƥ䣬ر
+					//最匹配，返回表对象
 					for (PhyTable tbl : tableList) {
 						tbl.close();
 					}
@@ -954,7 +954,7 @@ public class Cuboid extends RowComTable {
 			}
 		}
 
-		//ȥƥȵ͵ģ2ģȥ1ģ
+		//去掉匹配度低的（如果有2的，则去掉1的）
 		if (tableList2.size() != 0) {
 			for (PhyTable tbl : tableList) {
 				tbl.close();
@@ -965,11 +965,11 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * Һʵ (Ⱥ)
-	 * @param srcTable ԭ
-	 * @param names Ҫֶ
-	 * @param expNames ۺϱʽ
-	 * @param w ˱ʽ
+	 * 查找合适的立方体 (集群)
+	 * @param srcTable 原表
+	 * @param names 要分组的字段名称
+	 * @param expNames 聚合表达式名称
+	 * @param w 过滤表达式
 	 * @param ctx
 	 * @return
 	 */
@@ -980,7 +980,7 @@ public class Cuboid extends RowComTable {
 		if (cuboids == null) return tableList;
 		ArrayList<PhyTable> tableList2 = new ArrayList<PhyTable>();
 		
-		//expsavgپۺ
+		//检查exps，avg不能做再聚合
 		for (String exp : expNames) {
 			if (exp.indexOf("avg(") != -1) {
 				return tableList;
@@ -1019,7 +1019,7 @@ public class Cuboid extends RowComTable {
 				} else if ( match == 2) {
 					tableList2.add(baseTable);
 				} else if (match == 3) {
-					//ƥ䣬ر
+					//最匹配，返回表对象
 					for (PhyTable tbl : tableList) {
 						tbl.close();
 					}
@@ -1039,7 +1039,7 @@ public class Cuboid extends RowComTable {
 			}
 		}
 		
-		//ȥƥȵ͵ģ2ģȥ1ģ
+		//去掉匹配度低的（如果有2的，则去掉1的）
 		if (tableList2.size() != 0) {
 			for (PhyTable tbl : tableList) {
 				tbl.close();
@@ -1050,21 +1050,21 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * ֶκ(ļ)ֶεƥ
-	 * @param fields ֶ
-	 * @param kcount άֶθ
-	 * @param names Ҫֶ
-	 * @param expNames ۺϱʽ
-	 * @param filterFields ˱ʽwֶ
-	 * @return 0 ƥ,1 ƥ,2 ֶƥ,3ȫƥ
+	 * 检查分组字段和立方体(组表文件)字段的匹配性
+	 * @param fields 立方体的字段
+	 * @param kcount 立方体的维字段个数
+	 * @param names 要分组的字段
+	 * @param expNames 聚合表达式
+	 * @param filterFields 过滤表达式w里的字段
+	 * @return 0 不匹配,1 匹配,2 条件里有字段匹配,3全匹配
 	 */
 	private static int check(String fields[], int kcount, String names[], String expNames[], ArrayList<String> filterFields, Context ctx) {
 		int fcount = names == null ? 0 : names.length;
 		int ecount = expNames.length;
 		int size = fields.length;
-		//boolean hasYearDate = false;//ֱƥ䣬ƥ䵽yeardateʽ
+		//boolean hasYearDate = false;//不直接匹配，而是匹配到year、date表达式
 		
-		//wֶǷֶ
+		//检查w里的字段是否都在立方体字段里出现
 		if (filterFields != null) {
 			ArrayList<String> flist = new ArrayList<String>();
 			for (int i = 0; i < kcount; i++) {
@@ -1073,7 +1073,7 @@ public class Cuboid extends RowComTable {
 			for (String f : filterFields) {
 				boolean flag = flist.contains(f);
 				if (!flag) {
-					//ֶ,ǴڰʱıʽҲ
+					//如果不存在这个字段,但是存在包含时间区间的表达式也可以
 					if (flist.contains("year(" + f + ")")) {
 						//hasYearDate = true;
 						flag = true;
@@ -1093,7 +1093,7 @@ public class Cuboid extends RowComTable {
 		}
 		
 		if (size >= fcount + ecount) {
-			//Ƿexp
+			//检查立方体里是否有exp
 			for (String exp : expNames) {
 				boolean find = false;
 				for (int i = 0; i < size; i++) {
@@ -1105,15 +1105,15 @@ public class Cuboid extends RowComTable {
 				if (!find) return 0;
 			}
 			
-			//жǲcontain
+			//判断是不是contain
 			if (ctx != null && fcount == 1 && names[0].indexOf("contain") != -1) {
-				//containʽ漰ֶǷFi
+				//检查contain表达式涉及字段是否是立方体里的Fi
 				Expression exp = new Expression(names[0]);
 				if (exp.getHome() instanceof DotOperator 
 						&& exp.getHome().getRight() instanceof Contain) {
 					ArrayList<String> list = new ArrayList<String>();
 					exp.getUsedFields(ctx, list);
-					//Ҫlistֶζfieldsҵ
+					//要求list里的字段都能在fields里找到
 					boolean find = false;
 					for (String str : list) {
 						find = false;
@@ -1133,7 +1133,7 @@ public class Cuboid extends RowComTable {
 				}
 			}
 			
-			//˳FiFi
+			//按顺序检查Fi和立方体里的Fi
 			for (int i = 0; i < fcount; i++) {
 				String name = names[i];
 				if (! name.equals(fields[i])) {
@@ -1143,7 +1143,7 @@ public class Cuboid extends RowComTable {
 			if (fcount == kcount && filterFields == null) {
 				return 3;
 			} else if (filterFields != null && filterFields.size() != 0) {
-				return 2;//ֶƥ
+				return 2;//条件里有字段匹配
 			} else {
 				return 1;
 			}
@@ -1154,9 +1154,9 @@ public class Cuboid extends RowComTable {
 	}
 
 	/**
-	 * ȡtableתΪյ͵ԭֶ
+	 * 取出table里转换为年月日的日期类型的原字段
 	 * @param table
-	 * @param list {ֶ} :1 year ,2 month,3 day
+	 * @param list 输出{字段名，分组层次} 分组层次:1 year ,2 month,3 day
 	 */
 	private static void getDateFields(PhyTable table, ArrayList<Object> list) {
 		String[] fields = table.getAllSortedColNames();
@@ -1186,12 +1186,12 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * ӱʽȡ
-	 * @param field ֶ
-	 * @param node ʽڵ
-	 * @param interval 
-	 * @param isEQ Ⱥű־
-	 * @param otherNodes 漰node
+	 * 从表达式里提取区间
+	 * @param field 区间字段名
+	 * @param node 表达式节点
+	 * @param interval 区间输出
+	 * @param isEQ 区间等号标志
+	 * @param otherNodes 不涉及区间的其它node
 	 * @param ctx
 	 */
 	private static void getDateInterval(String field, Node node, Object[] interval,
@@ -1297,18 +1297,18 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * ʱתΪʽ1 ԭ 2 
-	 * @param field	ԭֶ
-	 * @param field	ȡֶ
-	 * @param array		ʱ
-	 * @param isEQ		Ƿ
+	 * 把时间区间转换为两个表达式：1 访问原组表的 2 访问立方体的
+	 * @param field	原组表字段名
+	 * @param field	立方体取出字段
+	 * @param array		时间区间
+	 * @param isEQ		是否相等
 	 * @param timeUnit
 	 * @return
 	 */
 	private static Node[] makeNode(String field, String fields[], Object array[], boolean isEQ[], Integer timeUnit) {
 		Node nodes[] = null;
 		
-		//ֶתΪ#i
+		//访问立方体的字段名转换为#i
 		String year = "year(" + field + ")";
 		String month = "month@y(" + field + ")";
 		String date = "date(" + field + ")";
@@ -1329,7 +1329,7 @@ public class Cuboid extends RowComTable {
 		
 		if (timeUnit == 1) {//year
 			if ((array[0] != null && array[0] instanceof Integer) ||
-					(array[1] != null && array[1] instanceof Integer)) {//IntegerʾǰYear
+					(array[1] != null && array[1] instanceof Integer)) {//Integer表示是按照Year函数提条件
 				Integer from = null, to = null;
 				if (array[0] != null && array[0] instanceof Integer) {
 					from = (Integer) array[0];
@@ -1350,16 +1350,16 @@ public class Cuboid extends RowComTable {
 				nodes[1] = new Expression(s).getHome();
 				return nodes;
 			}
-			//ǰΪ3ҵȥԭȡм
+			//这里是按区间把条件拆分为3个，左右的去原表里取数，中间的条件是利用立方体
 			Integer from = array[0] == null ? null : DateFactory.get().year( (Date) array[0]);
 			Integer to = array[1] == null ? null : DateFactory.get().year( (Date) array[1]);
 			if (from != null && to != null && (to - from < 2)) {
-				return null;//ò
+				return null;//用不到立方体
 			}
 			
 			nodes = new Node[2];
 			Node n1, n2;
-			Node and1 = null;//T
+			Node and1 = null;//用于T的左区间
 			Node and2 = null;
 			if (array[0] != null) {
 				if (!isEQ[0]) {
@@ -1415,7 +1415,7 @@ public class Cuboid extends RowComTable {
 				nodes[0] = and2;
 			}
 			
-			//֯node
+			//组织用于立方体的node
 			String s;
 			if (from != null && to != null) {
 				int begin = from + 1;
@@ -1432,7 +1432,7 @@ public class Cuboid extends RowComTable {
 			nodes[1] = new Expression(s).getHome();
 		} else if (timeUnit == 2) {
 			if ((array[0] != null && array[0] instanceof Integer) ||
-					(array[1] != null && array[1] instanceof Integer)) {//IntegerʾǰYear
+					(array[1] != null && array[1] instanceof Integer)) {//Integer表示是按照Year函数提条件
 				Integer from = null, to = null;
 				if (array[0] != null && array[0] instanceof Integer) {
 					from = (Integer) array[0];
@@ -1495,7 +1495,7 @@ public class Cuboid extends RowComTable {
 			}
 			
 			nodes = new Node[2];
-			Node n1, n2;//T
+			Node n1, n2;//用于T的
 			Node and1 = null, and2 = null;
 			if (hasInterval1) {
 				if (!isEQ[0]) {
@@ -1551,7 +1551,7 @@ public class Cuboid extends RowComTable {
 				nodes[0] = and2;
 			}
 			
-			//֯node
+			//组织用于立方体的node
 			String yearAndMonth = monthFieldName;
 			if (hasInterval1 && hasInterval2) {
 				String s = yearAndMonth +">=" + (fromYear*100 + fromMonth);
@@ -1603,7 +1603,7 @@ public class Cuboid extends RowComTable {
 			}
 			
 			nodes = new Node[2];
-			Node n1, n2;//T
+			Node n1, n2;//用于T的
 			Node and1 = null, and2 = null;
 			if (hasInterval1) {
 				if (!isEQ[0]) {
@@ -1651,7 +1651,7 @@ public class Cuboid extends RowComTable {
 				nodes[0] = and2;
 			}
 			
-			//֯node
+			//组织用于立方体的node
 			String fieldExp = dateFieldName;
 			if (hasInterval1 && hasInterval2) {
 				n1 = new NotSmaller();
@@ -1679,8 +1679,8 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * ȡnodeʽֶ yearڵʱfieldsĻᱻ˵
-	 * @param fields ֶ֪
+	 * 提取node表达式里的字段名 （遇到year节点时，不在fields里的会被过滤掉）
+	 * @param fields 已知的字段名
 	 * @param node
 	 * @param list
 	 */
@@ -1740,47 +1740,47 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * ԭº»
+	 * 原表更新后重新汇总
 	 * @param srcTable
 	 * @throws IOException
 	 */
 	public void update(PhyTable srcTable) throws IOException {
-		//1 ԭδܵĲֽл
+		//1 把原表里未汇总的部分进行汇总
 		
-		//õҪܵ
+		//得到要汇总的条数
 		long count = srcTable.getActualRecordCount();
 		count = count - getSrcCount();
 		if (count <= 0) return;
-		//㻺
+		//计算缓冲条数
 		int fcount = exps == null ? 0 : exps.length;
 		if (newExps != null) fcount += newExps.length;
 		int capacity = EnvUtil.getCapacity(srcTable.getAllColNames().length + fcount);
-		//õԭҪܵļ¼α
+		//得到原表要汇总的记录的游标
 		ICursor cursor = srcTable.cursor();
-		cursor.skip(getSrcCount());//Ѿܵ
-		//֯ܵõĲ
+		cursor.skip(getSrcCount());//跳过已经汇总的
+		//组织汇总调用的参数
 		int expsLength = exps.length;
 		int newExpsLength = newExps.length;
-		Expression expressions[] = new Expression[expsLength];//ֶαʽ
+		Expression expressions[] = new Expression[expsLength];//分组字段表达式
 		for (int i = 0; i < expsLength; i++) {
 			expressions[i] = new Expression(exps[i]);
 		}
-		Expression newExpressions[] = new Expression[newExpsLength];//ֶαʽ
+		Expression newExpressions[] = new Expression[newExpsLength];//汇总字段表达式
 		for (int i = 0; i < newExpsLength; i++) {
 			newExpressions[i] = new Expression(newExps[i]);
 		}
-		String names[] = new String[expsLength];//µķֶ
-		String newNames[] = new String[newExpsLength];//µĻֶ
+		String names[] = new String[expsLength];//新的分组字段名
+		String newNames[] = new String[newExpsLength];//新的汇总字段名
 		String cols[] = baseTable.colNames;
 		System.arraycopy(cols, 0, names, 0, names.length);
 		System.arraycopy(cols, names.length, newNames, 0, newNames.length);
 		
-		//õ׷ݵķܽα
+		//得到新追加数据的分组汇总结果游标
 		ICursor cs = cursor.groupx(expressions, names, newExpressions,
 				newNames, null, ctx, capacity / 2);
 		
-		//2cs鲢Ԥ(baseTable)
-		//õܿ水鴦
+		//2把cs归并到预分组立方体(baseTable)中
+		//得到总块数，下面按块处理
 		CuboidTable baseTable = this.baseTable;
 		int totalBlockCount = baseTable.getDataBlockCount();
 		if (totalBlockCount == 0) {
@@ -1792,12 +1792,12 @@ public class Cuboid extends RowComTable {
 			return;
 		}
 		
-		BlockLinkReader rowReader = baseTable.getRowReader(true);//reader
-		ObjectReader segmentReader = baseTable.getSegmentObjectReader();//ֶϢreader
-		Object []maxValues = new Object[expsLength];//ÿһεֵ
-		Sequence dataToInsert = new Sequence();//Ҫ
+		BlockLinkReader rowReader = baseTable.getRowReader(true);//数据reader
+		ObjectReader segmentReader = baseTable.getSegmentObjectReader();//分段信息reader
+		Object []maxValues = new Object[expsLength];//每一段的最大值
+		Sequence dataToInsert = new Sequence();//存放要插入的数据
 		
-		//ȡһݳ
+		//取一段数据出来
 		Sequence data = cs.fetch(ICursor.FETCHCOUNT);
 		if (data == null || data.length() == 0) {
 			return;
@@ -1807,50 +1807,50 @@ public class Cuboid extends RowComTable {
 		BaseRecord record = (BaseRecord) data.get(idx);
 		Object vals[] = record.getFieldValues();
 		
-		//дֶεreader writer
+		//定义读写定长字段的reader writer
 		byte[] bytes = new byte[FIXED_OBJ_LEN];
 		RowBufferReader bufferReader = new RowBufferReader(null, bytes);
 		RowBufferWriter bufferWriter = new RowBufferWriter(null, bytes);
 		
 		RandomAccessFile rafile = raf;//new RandomAccessFile(file, "rw");
 		ObjectReader reader = new ObjectReader(rowReader, blockSize - ComTable.POS_SIZE);;
-		//ÿһд
+		//遍历每一块进行处理
 		NEXT:
 		for(int i = 0; i < totalBlockCount; i++) {
 			int curRecordCount = 0;
-			int curRecordSum = segmentReader.readInt32();//ǰ
-			segmentReader.readLong40();//ǰĵַ		
+			int curRecordSum = segmentReader.readInt32();//当前块的条数
+			segmentReader.readLong40();//当前块的地址		
 			for (int k = 0; k < expsLength; ++k) {
-				segmentReader.skipObject();//Сֵ
-				maxValues[k] = segmentReader.readObject();//õֵ
+				segmentReader.skipObject();//跳过最小值
+				maxValues[k] = segmentReader.readObject();//得到最大值
 			}
 			Object curObjs[] = null;
-			int blockSize = reader.readInt32();//ǿСƫƹȥ
+			int blockSize = reader.readInt32();//这是块大小，偏移过去
 			long position = reader.position();
-			//ӱһԱ
+			//从本段里读一条出来对比
 			curObjs = new Object[fcount];
-			reader.skipObject();//α
+			reader.skipObject();//跳过伪号
 			for (int k = 0; k < expsLength; ++k) {
 				curObjs[k] = reader.readObject();
 			}
 			curRecordCount = 1;
 			
 			while(true) {
-				//жrecordǷ
+				//判断record是否在这个块里
 				int cmp = Variant.compare(vals[0], maxValues[0]);
 				if (cmp <= 0) {
-					//ڱ
+					//可能在本段里
 					cmp = Variant.compareArrays(vals, curObjs, expsLength);
 					if (cmp < 0) {
-						//һǲ룬һrecord
+						//这一条是插入，读下一条record
 						dataToInsert.add(record);
 						
-						//dataȡˣȡһЩ
+						//如果data取完了，就再取出来一些
 						idx++;
 						if (idx > len) {
 							data = cs.fetch(ICursor.FETCHCOUNT);
 							if (data == null || data.length() == 0) {
-								break NEXT;//ûһrecord
+								break NEXT;//如果没有下一条record了
 							}
 							idx = 1;
 							len = data.length();
@@ -1858,26 +1858,26 @@ public class Cuboid extends RowComTable {
 						record = (BaseRecord) data.get(idx);
 						vals = record.getFieldValues();
 					} else if (cmp == 0) {
-						//ҵˣ£һrecordһ
+						//找到了，更新，读下一条record，读本块下一条
 						
-						//ٻ
+						//进行再汇总
 						for (int k = 0; k < newExpsLength; ++k) {
-							long pos = calcPosition(rowReader, reader);//Ҫµĵַ
-							reader.readFully(bytes);//ȡ9ֽ
-							bufferReader.reset();//buffer reader λ
-							Object obj = bufferReader.readObject();//ȡһĻֶ
-							obj = regroup(obj, vals[expsLength + k], newNames[k]);//ٻ
+							long pos = calcPosition(rowReader, reader);//要更新的地址
+							reader.readFully(bytes);//读取定长9字节
+							bufferReader.reset();//buffer reader 复位
+							Object obj = bufferReader.readObject();//读取一个定长的汇总字段
+							obj = regroup(obj, vals[expsLength + k], newNames[k]);//再汇总
 							bufferWriter.reset();
 							bufferWriter.writeFixedLengthObject(obj);
-							rewrite(rafile, pos, bytes);//
+							rewrite(rafile, pos, bytes);//更新
 						}
 						
-						//һrecord,dataȡˣȡһЩ
+						//读下一条record,如果data取完了，就再取出来一些
 						idx++;
 						if (idx > len) {
 							data = cs.fetch(ICursor.FETCHCOUNT);
 							if (data == null || data.length() == 0) {
-								break NEXT;//ûһrecord
+								break NEXT;//如果没有下一条record了
 							}
 							idx = 1;
 							len = data.length();
@@ -1885,41 +1885,41 @@ public class Cuboid extends RowComTable {
 						record = (BaseRecord) data.get(idx);
 						vals = record.getFieldValues();
 						
-						//һ
+						//读本块下一条
 						curRecordCount++;
 						if (curRecordCount > curRecordSum) {
-							break;//жϱǷ
+							break;//判断本块是否读完了
 						}
 						
-						//α
+						//跳过伪号
 						reader.skipObject();
-						//(ά)ֶ
+						//读出来(维)分组字段
 						for (int k = 0; k < expsLength; ++k) {
 							curObjs[k] = reader.readObject();
 						}
 					} else {
-						//һ
+						//读本块下一条
 						
-						//ûĻֶ
+						//跳过没读出来的汇总字段
 						for (int k = 0; k < newExpsLength; ++k) {
 							reader.skipBytes(FIXED_OBJ_LEN);
 						}
 						
-						//жϱǷ
+						//判断本块是否读完了
 						curRecordCount++;
 						if (curRecordCount > curRecordSum) {
 							break;
 						}
 						
-						//α
+						//跳过伪号
 						reader.skipObject();
-						//(ά)ֶ
+						//读出来(维)分组字段
 						for (int k = 0; k < expsLength; ++k) {
 							curObjs[k] = reader.readObject();
 						}
 					}
 				} else {
-					//һ
+					//下一段
 					reader.skip(blockSize - (reader.position() - position));
 					break;
 				}
@@ -1930,15 +1930,15 @@ public class Cuboid extends RowComTable {
 		segmentReader.close();
 		rowReader.close();
 		
-		//dataﻹ
+		//如果data里还有数据
 		if (data != null && data.length() != 0 && idx <= len) {
 			Sequence seq = data.split(idx);
 			baseTable.append(new MemoryCursor(seq));
 		}
-		//csܻ
+		//cs里可能还有数据
 		baseTable.append(cs);
 		
-		//вй鲢
+		//有插入数据则进行归并
 		if (dataToInsert.length() != 0) {
 			baseTable.append(new MemoryCursor(dataToInsert), "m");
 		}
@@ -1949,9 +1949,9 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * src½һ壬дfile
+	 * 根据src新建一个立方体，写出到file
 	 * @param file
-	 * @param srcCount Ŀǰ̶Ϊ0ܻô
+	 * @param srcCount 目前固定为0，可能会有其它用处
 	 * @param src
 	 * @throws IOException
 	 */
@@ -2048,7 +2048,7 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * Ƶǰ嵽file ƽṹݣ
+	 * 复制当前立方体到file （仅复制结构，不含数据）
 	 * @param file
 	 * @return
 	 */
@@ -2076,20 +2076,20 @@ public class Cuboid extends RowComTable {
 	}
 	
 	/**
-	 * õ
+	 * 得到这个表的所有立方体
 	 * @param srcTable
 	 * @return
 	 */
     public static List<String> getCuboids(ClusterPhyTable srcTable) {
     	String folderPath = Env.getMainPath();
     	String queryStr = srcTable.getClusterFile().getFileName() + Cuboid.CUBE_PREFIX;
-        List<String> fileNameList = new ArrayList<String>();//ļб
+        List<String> fileNameList = new ArrayList<String>();//文件名列表
         File f = new File(folderPath);
-        if (!f.exists()) { //·
+        if (!f.exists()) { //路径不存在
             return null;
         }else{
                 File fa[] = f.listFiles();
-                queryStr = queryStr==null ? "" : queryStr;//queryStrΪnull,滻ΪգindexOfƥֵΪnull
+                queryStr = queryStr==null ? "" : queryStr;//若queryStr传入为null,则替换为空（indexOf匹配值不能为null）
                 for (int i = 0; i < fa.length; i++) {
                     File fs = fa[i];
                     if(fs.getName().indexOf(queryStr)!=-1){
@@ -2103,8 +2103,8 @@ public class Cuboid extends RowComTable {
     }
     
     /**
-     * ¼Ⱥ
-     * Ⱥд¼¼ʱʹ
+     * 更新集群表的立方体
+     * 当集群表有写入新记录时使用
      * @param srcTable
      * @param ctx
      */
@@ -2148,7 +2148,7 @@ public class Cuboid extends RowComTable {
     						fo.delete();
     					}
     					
-    					//
+    					//保存
     					file = fo.getLocalFile().file();
     					String colNames[] = new String[fields.length];
     					int sbytes[] = new int[fields.length];
@@ -2165,7 +2165,7 @@ public class Cuboid extends RowComTable {
     								expNames, newNames);
     						ctable.save();
     						ctable.close();
-    						ctable = new Cuboid(file, ctx);//´
+    						ctable = new Cuboid(file, ctx);//重新打开
     						ctable.checkPassword("cuboid");
     						ctable.append(cursor);
     						ctable.writeHeader();
@@ -2195,8 +2195,8 @@ public class Cuboid extends RowComTable {
 }
 
 /**
- * 
- * Ԥܵʵʴ
+ * 立方体基表类
+ * 预汇总的数据实际存放在这个类
  * @author runqian
  *
  */
@@ -2214,7 +2214,7 @@ class CuboidTable extends RowPhyTable {
 	}
 	
 	/**
-	 * д
+	 * 写入新数据
 	 */
 	public void append(ICursor cursor, String opt) throws IOException {
 		if (opt == null || opt.indexOf('m') == -1 || !isSorted) {
@@ -2222,14 +2222,14 @@ class CuboidTable extends RowPhyTable {
 			return;
 		}
 		
-		// ִ֧鲢׷
+		// 不支持带附表的组表归并追加
 		if (!isSingleTable()) {
 			throw new RQException("'append@m' is unimplemented in annex table!");
 		}
 		
 		int []serialBytesLen = this.serialBytesLen;
 		
-		// 鲢ȱ浽ʱļ
+		// 归并读的数据先保存到临时文件
 		Cuboid groupTable = (Cuboid)getGroupTable();
 		File srcFile = groupTable.getFile();
 		File tmpFile = File.createTempFile("tmpdata", "", srcFile.getParentFile());
@@ -2257,19 +2257,19 @@ class CuboidTable extends RowPhyTable {
 				mergeExps[i] = new Expression(sortedColNames[i]);
 			}
 			
-			// 鲢
+			// 做归并
 			RowCursor srcCursor = new RowCursor(this);
 			ICursor []cursors = new ICursor[]{srcCursor, cursor};
 			MergesCursor mergeCursor = new MergesCursor(cursors, mergeExps, ctx);
 			baseTable.append(mergeCursor);
 			baseTable.close();
 			
-			// رղɾļʱļΪļ
+			// 关闭并删除组表文件，把临时文件重命名为组表文件名
 			groupTable.raf.close();
 			groupTable.file.delete();
 			tmpFile.renameTo(groupTable.file);
 			
-			// ´
+			// 重新打开组表
 			groupTable.reopen();
 		} finally {
 			tmpFile.delete();
@@ -2280,8 +2280,8 @@ class CuboidTable extends RowPhyTable {
 		BaseRecord r;
 		int count = colNames.length;
 		boolean isDim[] = getDimIndex();
-		Object []minValues = null;//һСάֵ
-		Object []maxValues = null;//һάֵ
+		Object []minValues = null;//一块的最小维值
+		Object []maxValues = null;//一块的最大维值
 
 		if (sortedColNames != null) {
 			minValues = new Object[count];
@@ -2294,8 +2294,8 @@ class CuboidTable extends RowPhyTable {
 		for (int i = start; i <= end; ++i) {
 			r = (BaseRecord) data.get(i);
 			Object[] vals = r.getFieldValues();
-			//һдbuffer
-			bufferWriter.writeObject(++recNum);//дҪдһα
+			//把一条的所有列写到buffer
+			bufferWriter.writeObject(++recNum);//行存要先写一个伪号
 			for (int j = 0; j < count; j++) {
 				Object obj = vals[j];
 				if (isDim[j]) {
@@ -2303,7 +2303,7 @@ class CuboidTable extends RowPhyTable {
 					if (Variant.compare(obj, maxValues[j], true) > 0)
 						maxValues[j] = obj;
 					if (i == start)
-						minValues[j] = obj;//һҪֵΪnullʾС
+						minValues[j] = obj;//第一个要赋值，因为null表示最小
 					if (Variant.compare(obj, minValues[j], true) < 0)
 						minValues[j] = obj;
 				} else {
@@ -2312,17 +2312,17 @@ class CuboidTable extends RowPhyTable {
 			}
 		}
 		
-		//дʱѹ
+		//写数据时不压缩
 		if (sortedColNames == null) {
-			//ύbufferп
+			//提交buffer到行块
 			long pos = colWriter.writeDataBuffer(bufferWriter.finish());
-			//·ֶϢ
+			//更新分段信息
 			appendSegmentBlock(end - start + 1);
 			objectWriter.writeLong40(pos);
 		} else {
-			//ύbufferп
+			//提交buffer到行块
 			long pos = colWriter.writeDataBuffer(bufferWriter.finish());
-			//·ֶϢ
+			//更新分段信息
 			appendSegmentBlock(end - start + 1);
 			objectWriter.writeLong40(pos);
 			for (int i = 0; i < count; ++i) {
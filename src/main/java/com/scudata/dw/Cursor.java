@@ -47,54 +47,54 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * дα
+ * 列存基表的游标类
  * @author runqian
  *
  */
 public class Cursor extends IDWCursor {
-	private ColPhyTable table;//ԭ
-	private String []fields;//ȡֶ
-	protected DataStruct ds;//ݽṹ
-	private String []sortedFields;//ֶ
-	private Expression filter;//˱ʽ
+	private ColPhyTable table;//原表
+	private String []fields;//取出字段
+	protected DataStruct ds;//数据结构
+	private String []sortedFields;//有序字段
+	private Expression filter;//过滤表达式
 	
-	// K:T	K:TϻK=T.find(K)Kѡֶ
+	// K:T	在K:T条件上基础上再令K=T.find(K)，K必须是选出字段
 	private String []fkNames;
 	private Sequence []codes;
 	private String []opts;
 	
-	private IFilter []filters;//
-	protected FindFilter []findFilters; // switchֶ
-	private int []seqs; // colReadersӦֶκţֶοܲѡ
+	private IFilter []filters;//过滤器
+	protected FindFilter []findFilters; // 用来做switch的字段
+	private int []seqs; // colReaders对应的字段号，过滤字段可能不选出
 	
-	private ColumnMetaData []columns;//õ
+	private ColumnMetaData []columns;//用到的列
 	private BlockLinkReader rowCountReader;
 	private BlockLinkReader []colReaders;
 	private ObjectReader []segmentReaders;
 	
-	private int startBlock; // 
-	private int endBlock = -1; // 
+	private int startBlock; // 包含
+	private int endBlock = -1; // 不包含
 	private int curBlock = 0;
 	protected Sequence cache;
 	
-	private long prevRecordSeq = 0; // ǰһ¼
-	private int []findex; // ѡֶζӦֶκ
+	private long prevRecordSeq = 0; // 前一条记录的序号
+	private int []findex; // 选出字段对应的字段号
 	private ArrayList<ModifyRecord> modifyRecords;
 	private int mindex = 0;
 	private int mcount = 0;
 	
-	// ֶͬʱҪһεһڱεĲ
+	// 同步分段时需要补上下一段第一块里属于本段的部分
 	private Sequence appendData;
 	private int appendIndex = 0;
 	
 	private boolean isClosed = false;
 	private boolean isFirstSkip = true;
 	private boolean isSegment = false;
-	private Expression []exps;//ʽֶ
+	private Expression []exps;//表达式字段
 	private Expression []expsBakup;
-	private String []names;//ȡ
-	private TableGather []gathers;//ȡ
-	private boolean isField[];//true,ֶΣfalseǱʽ
+	private String []names;//取出名
+	private TableGather []gathers;//从其它附表取
+	private boolean isField[];//true,是字段；false，是表达式
 	private DataStruct tempDs;
 	
 	public Cursor() {
@@ -169,7 +169,7 @@ public class Cursor extends IDWCursor {
 	}
 
 	/**
-	 * ÷ֶstartBlockendBlock
+	 * 设置分段startBlock包含，endBlock不包含
 	 */
 	public void setSegment(int startBlock, int endBlock) {
 		isSegment = true;
@@ -235,7 +235,7 @@ public class Cursor extends IDWCursor {
 			
 			this.prevRecordSeq = prevRecordSeq;
 			if (prevRecordSeq > 0 && mcount > 0) {
-				// ҲҪӦֶ
+				// 补区也要相应地做分段
 				ArrayList<ModifyRecord> modifyRecords = this.modifyRecords;
 				int mindex = 0;
 				for (ModifyRecord r : modifyRecords) {
@@ -262,7 +262,7 @@ public class Cursor extends IDWCursor {
 	}
 	
 	/**
-	 *  ֶͬʱҪһεһڱεĲ
+	 *  同步分段时需要补上下一段第一块里属于本段的部分
 	 */
 	public void setAppendData(Sequence seq) {
 		this.appendData = (Sequence) seq;
@@ -276,7 +276,7 @@ public class Cursor extends IDWCursor {
 	}
 	
 	/**
-	 * ӱʽȡ漰
+	 * 从表达式里提取涉及到的列
 	 * @param table
 	 * @param node
 	 * @return
@@ -284,21 +284,21 @@ public class Cursor extends IDWCursor {
 	private static ColumnMetaData getColumn(ColPhyTable table, Node node) {
 		if (node instanceof UnknownSymbol) {
 			/**
-			 * ֱӾֶ
+			 * 直接就是字段
 			 */
 			String keyName = ((UnknownSymbol)node).getName();
 			return table.getColumn(keyName);
 		} else if (node instanceof DotOperator && node.getLeft() instanceof CurrentElement && 
 				node.getRight() instanceof FieldRef) {
 			/**
-			 *  ~.keyʽ
+			 *  ~.key格式的
 			 */
 			FieldRef fieldNode = (FieldRef)node.getRight();
 			String keyName = fieldNode.getName();
 			return table.getColumn(keyName);
 		} else if (node instanceof DotOperator && node.getRight() instanceof Sbs) {
 			/**
-			 * źk.sbs()
+			 * 排号k.sbs()
 			 */
 			Node left = node.getLeft();
 			return getColumn(table, left);
@@ -572,7 +572,7 @@ public class Cursor extends IDWCursor {
 			if (modifyRecords != null || exps != null) {
 				unknownFilter = filter;
 			} else {
-				//ĿǰֻŻûвûбʽ
+				//目前只优化没有补区和没有表达式的情况
 				filters = ((ColumnsOr)obj).toArray();
 			}
 		} else if (obj instanceof Top) {
@@ -585,7 +585,7 @@ public class Cursor extends IDWCursor {
 			Select select = new Select(unknownFilter, "o");
 			addOperation(select, ctx);
 			
-			// 鲻ʶıʽǷûѡֶΣ뵽ѡֶ
+			// 检查不可识别的表达式里是否引用了没有选出的字段，如果引用了则加入到选出字段里
 			ArrayList<String> nameList = new ArrayList<String>();
 			unknownFilter.getUsedFields(ctx, nameList);
 			if (nameList.size() > 0 && fields != null) {
@@ -707,7 +707,7 @@ public class Cursor extends IDWCursor {
 				return new FindFilter(column, pri, data, null);
 			}
 		} else {
-			// ԪʱñңΪַϣ
+			// 元素数量较少时采用遍历发查找，因为字符串哈希较慢
 			data = data.getPKeyValues();
 			if (isNot) {
 				return new NotContainFilter(column, pri, data, null, null);
@@ -821,7 +821,7 @@ public class Cursor extends IDWCursor {
 	}
 	
 	
-	// nodeǵֶαʽתNodeFilter
+	// 如果node是单字段表达式则转成NodeFilter
 	private static Object parseFieldExp(ColPhyTable table, Node node, Context ctx, Context filterCtx) {
 		ArrayList<String> fieldList = new ArrayList<String>();
 		node.getUsedFields(ctx, fieldList);
@@ -844,12 +844,12 @@ public class Cursor extends IDWCursor {
 	}
 	
 	public static Object parseFilter(ColPhyTable table, Expression filter, Context ctx) {
-		// ΪIFilter½ģеIFilterҪΪӱֵֶ
-		// ߳ʱҲҪԼ
+		// 为IFilter新建上下文，有的IFilter需要为上下文增加变量用来引用字段值
+		// 多线程时也需要用自己的上下文
 		Context filterCtx = new Context(ctx);
 		
-		// ƱʽеIFilterҪΪӱֵֶ
-		// UnknownSymbolʱỺα깲һʽӰ
+		// 复制表达式，有的IFilter需要为上下文增加变量用来引用字段值
+		// UnknownSymbol计算时会缓存变量，如果两个游标共用一个表达式则会受影响
 		filter = filter.newExpression(ctx);
 		
 		Node node = filter.getHome();
@@ -934,7 +934,7 @@ public class Cursor extends IDWCursor {
 			throw new RQException(e);
 		}
 		
-		// ˱ʽ
+		// 分析过滤表达式
 		if (filter != null) {
 			parseFilter();
 		}
@@ -946,7 +946,7 @@ public class Cursor extends IDWCursor {
 		ColumnMetaData []columns;
 		ArrayList<ColumnMetaData> expColumns = null;
 		
-		//ӱĹͬͼ̳
+		//处理子表对主表的共同和继承
 		if (fields == null) {
 			columns = table.getColumns();
 			fields = table.getColNames();
@@ -1052,7 +1052,7 @@ public class Cursor extends IDWCursor {
 		}
 		
 		/**
-		 * expsĸʽʼ
+		 * 把exps里的附表表达式初始化
 		 * T.f(x),T{}
 		 */
 		if (exps != null) {
@@ -1120,7 +1120,7 @@ public class Cursor extends IDWCursor {
 		}
 		
 		if (table.hasPrimaryKey()) {
-			// ѡݽṹ
+			// 如果附表有主键并且主键被选出则给数据结构设上主键
 			String []keys = table.getAllKeyColNames();
 			String []sortedCols = table.getAllSortedColNames();
 			ArrayList<String> pkeyList = new ArrayList<String>();
@@ -1152,7 +1152,7 @@ public class Cursor extends IDWCursor {
 			}
 			
 			if (signKey) {
-				//
+				//有主键
 				int size = pkeyList.size();
 				String[] pkeys = new String[size];
 				pkeyList.toArray(pkeys);
@@ -1161,12 +1161,12 @@ public class Cursor extends IDWCursor {
 
 			int size = sortedFieldList.size();
 			if (size > 0) {
-				//ֶ
+				//有序字段
 				sortedFields = new String[size];
 				sortedFieldList.toArray(sortedFields);
 			}
 		} else if (table.isSorted) {
-			// ֶ֯
+			// 如果附表有序则组织有序字段
 			String []keys = table.getAllSortedColNames();
 			ArrayList<String> sortedFieldList = new ArrayList<String>();
 			DataStruct temp;
@@ -1185,7 +1185,7 @@ public class Cursor extends IDWCursor {
 			}
 			int size = sortedFieldList.size();
 			if (size > 0) {
-				//ֶ
+				//有序字段
 				sortedFields = new String[size];
 				sortedFieldList.toArray(sortedFields);
 			}
@@ -1215,7 +1215,7 @@ public class Cursor extends IDWCursor {
 	}
 	
 	protected Sequence get(int n) {
-		// ޸ֶͬΣֶͬʱֶεڿĳ¼ʹappendDataһҪӵļ¼
+		// 修改了同步分段，同步分段时如果分段点是在块中某条记录，则使用appendData存放最后一块需要添加的记录
 		isFirstSkip = false;
 		Sequence seq;
 		if (gathers == null) {
@@ -1412,19 +1412,19 @@ public class Cursor extends IDWCursor {
 						Object minValue = segmentReaders[0].readObject();
 						Object maxValue = segmentReaders[0].readObject();
 						segmentReaders[0].skipObject();
-						if (!filter.match(minValue, maxValue)) {
+						if (!filter.match(minValue, maxValue, curBlock - 1)) {
 							continue;
 						}
 					}
 					
-					int nextRow = 0; // ͨһҪУûǰҪ
+					int nextRow = 0; // 普通列下一个要读的行，如果还没到当前要读的行则跳到
 					BufferReader filterReader = colReaders[0].readBlockData(positions[0], recordCount);
 					for (int f = 1; f < colCount; ++f) {
 						bufReaders[f] = null;
 					}
 					
 					for (int i = 0; i < recordCount; ++i) {
-						// ¼ѭеBufferReaderûвǰҪ
+						// 按记录数循环，如果列的BufferReader没有产生则产生并跳到当前要读的行
 						Object val = filterReader.readObject();
 						if (!filter.match(val)) {
 							continue;
@@ -1486,7 +1486,7 @@ public class Cursor extends IDWCursor {
 							Object minValue = segmentReaders[f].readObject();
 							Object maxValue = segmentReaders[f].readObject();
 							segmentReaders[f].skipObject();
-							if (!filters[f].match(minValue, maxValue)) {
+							if (!filters[f].match(minValue, maxValue, curBlock - 1)) {
 								++f;
 								sign = false;
 								break;
@@ -1507,8 +1507,8 @@ public class Cursor extends IDWCursor {
 						continue;
 					}
 					
-					int []nextRows = new int[colCount]; // ÿbufReadersһҪУûǰҪ
-					Object []fvalues = new Object[colCount]; // ǰֶεֵ
+					int []nextRows = new int[colCount]; // 每个bufReaders下一条要读到的行，如果还没到当前要读的行则跳到
+					Object []fvalues = new Object[colCount]; // 当前行条件字段的值
 
 					for (f = 0; f < colCount; ++f) {
 						bufReaders[f] = null;
@@ -1516,7 +1516,7 @@ public class Cursor extends IDWCursor {
 					
 					Next:
 					for (int i = 0; i < recordCount; ++i) {
-						// ¼ѭеBufferReaderûвǰҪ
+						// 按记录数循环，如果列的BufferReader没有产生则产生并跳到当前要读的行
 						for (f = 0; f < filterCount; ++f) {
 							if (bufReaders[f] == null) 
 							
@@ -1587,7 +1587,7 @@ public class Cursor extends IDWCursor {
 		}
 	}
 	
-	//ֶαʽʱ
+	//有字段表达式时用这个
 	private Sequence getData2(int n) {
 		if (isClosed || n < 1) {
 			return null;
@@ -1746,7 +1746,7 @@ public class Cursor extends IDWCursor {
 							Object minValue = segmentReaders[f].readObject();
 							Object maxValue = segmentReaders[f].readObject();
 							segmentReaders[f].skipObject();
-							if (!filters[f].match(minValue, maxValue)) {
+							if (!filters[f].match(minValue, maxValue, curBlock - 1)) {
 								++f;
 								sign = false;
 								break;
@@ -1977,7 +1977,7 @@ public class Cursor extends IDWCursor {
 							r.setRecordSeq(prevRecordSeq);
 							mems.add(r);
 						} else {
-							// ܲ
+							// 可能插入多条
 							boolean isInsert = true;
 							while (true) {
 								if (mr.isDelete()) {
@@ -2028,7 +2028,7 @@ public class Cursor extends IDWCursor {
 					
 					if (curBlock == endBlock && endBlock == table.getDataBlockCount()) {
 						for (; mindex < mcount; ++mindex) {
-							// ܴڴ׷ӵļ¼ڲ
+							// 可能存在内存追加的记录在补区
 							mr = modifyRecords.get(mindex);
 							mseq = mr.getRecordSeq();
 							Record sr = mr.getRecord();
@@ -2052,9 +2052,9 @@ public class Cursor extends IDWCursor {
 				}
 				
 				if (table.getDataBlockCount() == 0 && startBlock == 0 && endBlock == 0) {
-					// лûʱпڲ
+					// 表中还没有添加数据时有可能在补区有数据
 					for (; mindex < mcount; ++mindex) {
-						// ܴڴ׷ӵļ¼ڲ
+						// 可能存在内存追加的记录在补区
 						mr = modifyRecords.get(mindex);
 						mseq = mr.getRecordSeq();
 						Record sr = mr.getRecord();
@@ -2091,7 +2091,7 @@ public class Cursor extends IDWCursor {
 							Object minValue = segmentReaders[f].readObject();
 							Object maxValue = segmentReaders[f].readObject();
 							segmentReaders[f].skipObject();
-							if (!filters[f].match(minValue, maxValue)) {
+							if (!filters[f].match(minValue, maxValue, curBlock - 1)) {
 								++f;
 								sign = false;
 								break;
@@ -2212,7 +2212,7 @@ public class Cursor extends IDWCursor {
 					
 					if (curBlock == endBlock && endBlock == table.getDataBlockCount()) {
 						for (; mindex < mcount; ++mindex) {
-							// ܴڴ׷ӵļ¼ڲ
+							// 可能存在内存追加的记录在补区
 							mr = modifyRecords.get(mindex);
 							Record sr = mr.getRecord();
 							if (Variant.isTrue(sr.calc(filter, ctx))) {
@@ -2236,9 +2236,9 @@ public class Cursor extends IDWCursor {
 				}
 				
 				if (table.getDataBlockCount() == 0 && startBlock == 0 && endBlock == 0) {
-					// лûʱпڲ
+					// 表中还没有添加数据时有可能在补区有数据
 					for (; mindex < mcount; ++mindex) {
-						// ܴڴ׷ӵļ¼ڲ
+						// 可能存在内存追加的记录在补区
 						mr = modifyRecords.get(mindex);
 						Record sr = mr.getRecord();
 						if (Variant.isTrue(sr.calc(filter, ctx))) {
@@ -2354,7 +2354,7 @@ public class Cursor extends IDWCursor {
 							r.setRecordSeq(prevRecordSeq);
 							mems.add(r);
 						} else {
-							// ܲ
+							// 可能插入多条
 							boolean isInsert = true;
 							while (true) {
 								if (mr.isDelete()) {
@@ -2430,7 +2430,7 @@ public class Cursor extends IDWCursor {
 					
 					if (curBlock == endBlock && endBlock == table.getDataBlockCount()) {
 						for (; mindex < mcount; ++mindex) {
-							// ܴڴ׷ӵļ¼ڲ
+							// 可能存在内存追加的记录在补区
 							mr = modifyRecords.get(mindex);
 							Record sr = mr.getRecord();
 							ComTableRecord r = new ComTableRecord(ds);
@@ -2461,9 +2461,9 @@ public class Cursor extends IDWCursor {
 				}
 				
 				if (table.getDataBlockCount() == 0 && startBlock == 0 && endBlock == 0) {
-					// лûʱпڲ
+					// 表中还没有添加数据时有可能在补区有数据
 					for (; mindex < mcount; ++mindex) {
-						// ܴڴ׷ӵļ¼ڲ
+						// 可能存在内存追加的记录在补区
 						mr = modifyRecords.get(mindex);
 						Record sr = mr.getRecord();
 						ComTableRecord r = new ComTableRecord(ds);
@@ -2502,7 +2502,7 @@ public class Cursor extends IDWCursor {
 							Object minValue = segmentReaders[f].readObject();
 							Object maxValue = segmentReaders[f].readObject();
 							segmentReaders[f].skipObject();
-							if (!filters[f].match(minValue, maxValue)) {
+							if (!filters[f].match(minValue, maxValue, curBlock - 1)) {
 								++f;
 								sign = false;
 								break;
@@ -2673,7 +2673,7 @@ public class Cursor extends IDWCursor {
 					
 					if (curBlock == endBlock && endBlock == table.getDataBlockCount()) {
 						for (; mindex < mcount; ++mindex) {
-							// ܴڴ׷ӵļ¼ڲ
+							// 可能存在内存追加的记录在补区
 							mr = modifyRecords.get(mindex);
 							Record sr = mr.getRecord();
 							if (Variant.isTrue(sr.calc(filter, ctx))) {
@@ -2705,9 +2705,9 @@ public class Cursor extends IDWCursor {
 				}
 				
 				if (table.getDataBlockCount() == 0 && startBlock == 0 && endBlock == 0) {
-					// лûʱпڲ
+					// 表中还没有添加数据时有可能在补区有数据
 					for (; mindex < mcount; ++mindex) {
-						// ܴڴ׷ӵļ¼ڲ
+						// 可能存在内存追加的记录在补区
 						mr = modifyRecords.get(mindex);
 						Record sr = mr.getRecord();
 						if (Variant.isTrue(sr.calc(filter, ctx))) {
@@ -2755,7 +2755,7 @@ public class Cursor extends IDWCursor {
 		this.isFirstSkip = false;
 		long count = 0;
 		
-		// ԵнŻɼ¼
+		// 对单表跳过所有进行优化，不生成记录对象
 		if (gathers == null && mcount < 1 && n == MAXSKIPSIZE) {
 			if (cache != null) {
 				count = cache.length();
@@ -2786,14 +2786,14 @@ public class Cursor extends IDWCursor {
 							Object minValue = segmentReader.readObject();
 							Object maxValue = segmentReader.readObject();
 							segmentReader.skipObject();
-							if (!filter.match(minValue, maxValue)) {
+							if (!filter.match(minValue, maxValue, curBlock - 1)) {
 								continue;
 							}
 						}
 						
 						BufferReader filterReader = colReaders[0].readBlockData(position, recordCount);
 						for (int i = 0; i < recordCount; ++i) {
-							// ¼ѭеBufferReaderûвǰҪ
+							// 按记录数循环，如果列的BufferReader没有产生则产生并跳到当前要读的行
 							Object val = filterReader.readObject();
 							if (filter.match(val)) {
 								count++;
@@ -2819,7 +2819,7 @@ public class Cursor extends IDWCursor {
 								Object minValue = segmentReaders[f].readObject();
 								Object maxValue = segmentReaders[f].readObject();
 								segmentReaders[f].skipObject();
-								if (!filters[f].match(minValue, maxValue)) {
+								if (!filters[f].match(minValue, maxValue, curBlock - 1)) {
 									++f;
 									sign = false;
 									break;
@@ -2831,14 +2831,14 @@ public class Cursor extends IDWCursor {
 							continue;
 						}
 						
-						int []nextRows = new int[filterCount]; // ÿbufReadersһҪУûǰҪ
+						int []nextRows = new int[filterCount]; // 每个bufReaders下一条要读到的行，如果还没到当前要读的行则跳到
 						for (f = 0; f < filterCount; ++f) {
 							bufReaders[f] = null;
 						}
 						
 						Next:
 						for (int i = 0; i < recordCount; ++i) {
-							// ¼ѭеBufferReaderûвǰҪ
+							// 按记录数循环，如果列的BufferReader没有产生则产生并跳到当前要读的行
 							for (f = 0; f < filterCount; ++f) {
 								if (bufReaders[f] == null) {
 									bufReaders[f] = colReaders[f].readBlockData(positions[f], recordCount);
@@ -2865,9 +2865,9 @@ public class Cursor extends IDWCursor {
 			this.curBlock = curBlock;
 			return count;
 		} else if (filters == null && !hasModify() && isFirstSkip  && !isSegment && gathers == null) {
-			//ûй˵Ż
+			//对没有过滤的情况优化
 			
-			//cache
+			//处理cache
 			Sequence cache = this.cache;
 			if (cache != null) {
 				int len = cache.length();
@@ -2880,7 +2880,7 @@ public class Cursor extends IDWCursor {
 				}
 			}
 			
-			//
+			//跳段
 			int curBlock = this.curBlock;
 			int endBlock = this.endBlock;
 			BlockLinkReader rowCountReader = this.rowCountReader;
@@ -3181,7 +3181,7 @@ public class Cursor extends IDWCursor {
 	}
 	
 	/**
-	 * ǷԶ̬Ż Ŀǰã
+	 * 是否可以动态优化 （目前不启用）
 	 * @return
 	 */
 	public boolean canDynamic() {
@@ -3189,7 +3189,7 @@ public class Cursor extends IDWCursor {
 	}
 	
 	protected Sequence getStartBlockData(int n) {
-		// ֻȡһļ¼һûľͷ
+		// 只取第一块的记录，如果第一块没有满足条件的就返回
 		int startBlock = this.startBlock;
 		int endBlock = this.endBlock;
 		try {
@@ -10,7 +10,7 @@ import com.scudata.dm.SerialBytes;
 import com.scudata.dm.Table;
 
 public class DataBlockType {
-	private static final double AlignThreshold = 0.8;//80%ʱ򶼴Ϊͣټ¼洢
+	private static final double AlignThreshold = 0.8;//当80%的数据是最长类型时，则都存为长类型，不再记录存储类型
 
 	private static final int TYPE_LENGTH_8 = 0x01;
 	private static final int TYPE_LENGTH_16 = 0x02;
@@ -40,7 +40,7 @@ public class DataBlockType {
 	public static final int DECIMAL = 0x45;
 	public static final int SERIALBYTES = 0x46;
 	public static final int STRING = 0x50;
-	public static final int STRING_ASSIC = 0x51;//ASSICַɵַҳС128
+	public static final int STRING_ASSIC = 0x51;//都是由ASSIC字符组成的字符串，且长度小于128
 	
 	public static final int CONST = 0x60;
 	
@@ -54,10 +54,10 @@ public class DataBlockType {
 	
 	public static final int MAX_DICT_NUMBER = 127;
 	
-	private int type;//ͣϢ
+	private int type;//块数据类型（含长度信息）
 	private boolean hasNull;
 	private Sequence dict;
-	private int dataType;// (ֵУObjectʱʹ)
+	private int dataType;//数据类型 (字典列，Object列时使用)
 	
 	public DataBlockType(int type, boolean hasNull) {
 		this.setType(type);
@@ -77,11 +77,11 @@ public class DataBlockType {
 	}
 
 	/**
-	 * dataͣȷ
-	 * @param data 
-	 * @param col к
-	 * @param start ʼλ
-	 * @param end λ
+	 * 计算data块的数据类型，精确到长度
+	 * @param data 数据序列
+	 * @param col 列号
+	 * @param start 开始位置
+	 * @param end 结束位置
 	 * @return 
 	 */
 	public static DataBlockType getDataBlockType(Sequence data, int col, int start, int end) {
@@ -93,7 +93,7 @@ public class DataBlockType {
 		}
 		
 		if (obj == null) {
-			//鶼null
+			//整个块都是null
 			return new DataBlockType(NULL, true);
 		}
 		
@@ -123,7 +123,7 @@ public class DataBlockType {
 		}
 		
 		if (type.type == INT8 || type.type == LONG8) {
-			return type;//8ʱüֵ
+			return type;//长度8时不用检查字典
 		}
 		
 		DataBlockType dictType = checkDict(seq, start, end);
@@ -252,7 +252,7 @@ public class DataBlockType {
 			return new DataBlockType(INT32, hasNull);
 		} else {
 			/**
-			 * ռ
+			 * 如果最长的类型占大多数
 			 */
 			double sum = end - start + 1;
 			if ((maxTypeLengthCount/ sum) >= AlignThreshold) {
@@ -260,7 +260,7 @@ public class DataBlockType {
 			}
 		}
 		
-		//ĬϷINT
+		//默认返回INT混合类型
 		return new DataBlockType(INT, hasNull);
 	}
 	
@@ -303,7 +303,7 @@ public class DataBlockType {
 			return new DataBlockType(LONG64, hasNull);
 		} else {
 			/**
-			 * ռ
+			 * 如果最长的类型占大多数
 			 */
 			double sum = end - start + 1;
 			if ((maxTypeLengthCount/ sum) >= AlignThreshold) {
@@ -311,7 +311,7 @@ public class DataBlockType {
 			}
 		}
 		
-		//ĬϷLONG
+		//默认返回LONG混合类型
 		return new DataBlockType(LONG, hasNull);
 	}
 	
@@ -342,7 +342,7 @@ public class DataBlockType {
 			return new DataBlockType(DOUBLE64, hasNull);
 		} else {
 			/**
-			 * DOUBLE64ռ
+			 * 如果DOUBLE64占大多数
 			 */
 			double sum = end - start + 1;
 			if ((typeLengthCount / sum) >= AlignThreshold) {
@@ -350,7 +350,7 @@ public class DataBlockType {
 			}
 		}
 		
-		//ĬϷDOUBLE
+		//默认返回DOUBLE混合类型
 		return new DataBlockType(DOUBLE, hasNull);
 	}
 	
@@ -581,7 +581,7 @@ public class DataBlockType {
 	}
 	
 	/**
-	 * ֵת ʱλ0ŵnullλã 
+	 * 把字典序列转换成数组 （基础类型时，结果数组位置0放的是null对象的位置） 
 	 * @param dict
 	 * @param dataType
 	 * @return 
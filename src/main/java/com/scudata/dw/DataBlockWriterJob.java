@@ -48,12 +48,12 @@ public class DataBlockWriterJob  extends Job {
 	}
 	
 	/**
-	 * dataеָΧдbyte[]
-	 * @param data 
-	 * @param dict ȫֵ
-	 * @param col к
-	 * @param start ʼλ
-	 * @param end λ
+	 * 把data序列的指定范围的数据写出到byte[]
+	 * @param data 数据序列
+	 * @param dict 全局字典
+	 * @param col 列号
+	 * @param start 开始位置
+	 * @param end 结束位置
 	 * @return 
 	 * @throws IOException
 	 */
@@ -264,7 +264,7 @@ public class DataBlockWriterJob  extends Job {
 		}
 	}
 	
-	//ҪͳMAXMINʱ
+	//需要统计MAX、MIN时用这个
 	public static void writeDataBlock(BufferWriter bufferWriter, Sequence data, Sequence dict, int col, int start, int end, 
 			Object[] maxValues, Object[] minValues, Object[] startValues, int[] dataType) throws IOException {
 		BaseRecord r;
@@ -281,7 +281,7 @@ public class DataBlockWriterJob  extends Job {
 				maxValues[col] = null;
 			}
 			if (i == start) {
-				minValues[col] = obj;//һҪֵΪnullʾС
+				minValues[col] = obj;//第一个要赋值，因为null表示最小
 				startValues[col] = obj;
 			}
 			try {
@@ -295,7 +295,7 @@ public class DataBlockWriterJob  extends Job {
 	}
 	
 	/**
-	 * Ƿȫֵ,Ҫʱϲ
+	 * 检查是否可以用全局字典,必要时合并
 	 * @param column_dict
 	 * @param block_dict
 	 * @return
@@ -1,5 +1,7 @@
 package com.scudata.dw;
 
+import java.util.Arrays;
+
 import com.scudata.array.BoolArray;
 import com.scudata.array.IArray;
 import com.scudata.array.ObjectArray;
@@ -17,7 +19,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * switch
+ * switch过滤器
  * @author runqian
  *
  */
@@ -27,6 +29,8 @@ public class FindFilter extends IFilter {
 	protected Sequence code; 
 	protected Expression right;
 	protected int[] pos;
+	private Object []blockFilterValues; // 用于列块过滤信息判断的键值
+	private JoinKeyFilter keyFilter; // 由维表的键生成的范围和布隆过滤器，用于查索引前排除块和行
 	
 	public FindFilter(ColumnMetaData column, int priority, Sequence sequence, Node node) {
 		super(column, priority);
@@ -55,12 +59,14 @@ public class FindFilter extends IFilter {
 		}
 		right = new Expression(column.getColName());
 		code = sequence;
+		keyFilter = JoinKeyFilter.create(sequence, it);
 	}
 	
 	public FindFilter(String columnName, int priority, Sequence sequence) {
 		this.columnName = columnName;
 		this.priority = priority;
 		it = sequence.getIndexTable();
+		keyFilter = JoinKeyFilter.create(sequence, it);
 	}
 	
 	public FindFilter(ColumnMetaData column, int priority) {
@@ -74,6 +80,11 @@ public class FindFilter extends IFilter {
 	}
 	
 	public boolean match(Object value) {
+		if (keyFilter != null && !keyFilter.mayContain(value)) {
+			findResult = null;
+			return false;
+		}
+		
 		return (findResult = it.find(value)) != null;
 	}
 	
@@ -98,15 +109,59 @@ public class FindFilter extends IFilter {
 	public boolean match(Object minValue, Object maxValue) {
 		if (Variant.isEquals(minValue, maxValue)) {
 			return it.find(minValue) != null;
+		} else if (keyFilter != null) {
+			// 列块的值域跟维表键的范围不相交时跳过整块
+			return keyFilter.mayIntersect(minValue, maxValue);
 		}
 		
 		return true;
 	}
 	
+	protected Object[] getBlockFilterValues() {
+		Sequence code = this.code;
+		if (blockFilterValues != null) {
+			return blockFilterValues;
+		} else if (code == null || code.length() > ContainFilter.MAX_BLOCKFILTER_COUNT) {
+			return null;
+		}
+		
+		int len = code.length();
+		Object []values = new Object[len];
+		for (int i = 1; i <= len; ++i) {
+			Object obj = code.getMem(i);
+			if (obj instanceof BaseRecord) {
+				// 按主键查找，键值是记录的主键值
+				BaseRecord r = (BaseRecord)obj;
+				int []fields = r.dataStruct().getPKIndex();
+				if (fields == null || fields.length != 1) {
+					return null;
+				}
+				
+				values[i - 1] = r.getNormalFieldValue(fields[0]);
+			} else {
+				values[i - 1] = obj;
+			}
+		}
+		
+		blockFilterValues = values;
+		return values;
+	}
+	
 	public IArray calculateAll(Context ctx) {
 		IArray key = right.calculateAll(ctx);
-		int[] pos = it.findAllPos(key);
 		int len = key.size();
+		int[] pos;
+		if (keyFilter != null && keyFilter.hasBloom()) {
+			// 先用布隆过滤器排除，只对剩下的行查索引
+			boolean[] signs = new boolean[len + 1];
+			Arrays.fill(signs, 1, len + 1, true);
+			BoolArray signArray = new BoolArray(signs, len);
+			keyFilter.filter(key, signArray);
+			pos = it.findAllPos(key, signArray);
+		} else {
+			pos = it.findAllPos(key);
+		}
+		
 		boolean[] result = new boolean[len + 1];
 		for (int i = 1; i <= len; i++) {
 			result[i] = pos[i] != 0;
@@ -119,9 +174,13 @@ public class FindFilter extends IFilter {
 	}
 	
 	public IArray calculateAnd(Context ctx, IArray leftResult) {
-		// isTrueصʱBollArrayֱ޸
+		// isTrue返回的是临时的BollArray，可以直接修改
 		BoolArray resultArray = leftResult.isTrue();
 		IArray key = right.calculateAll(ctx);
+		if (keyFilter != null && keyFilter.hasBloom()) {
+			keyFilter.filter(key, resultArray);
+		}
+		
 		int[] pos = it.findAllPos(key, resultArray);
 		
 		int len = key.size();
@@ -12,7 +12,7 @@ public abstract class IDWCursor extends ICursor {
 	abstract public void setSegment(int startBlock, int endBlock);
 	abstract public PhyTable getTableMetaData();
 	abstract protected Sequence get(int n);
-	abstract protected Sequence getStartBlockData(int n);//ֻһ,appendData
+	abstract protected Sequence getStartBlockData(int n);//只读第一块的数据,不含appendData
 	abstract public void setCache(Sequence cache);
 	
 	abstract public int getStartBlock();
@@ -36,8 +36,8 @@ public abstract class IDWCursor extends ICursor {
 	}
 	
 	/**
-	 * ȡֶαʼֵзֶֶ򷵻طֶֶεֵû򷵻άֶεֵ
-	 * @return ֶα¼ķֶֶεֵǰΪ0򷵻null
+	 * 取分段游标的起始值，如果有分段字段则返回分段字段的值，没有则返回维字段的值
+	 * @return 分段游标首条记录的分段字段的值，如果当前段数为0则返回null
 	 */
 	public Object[] getSegmentStartValues() {
 		ColPhyTable table = (ColPhyTable) getTableMetaData();
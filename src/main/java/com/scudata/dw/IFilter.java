@@ -1,13 +1,16 @@
 package com.scudata.dw;
 
+import java.io.IOException;
 import java.util.List;
 
 import com.scudata.array.IArray;
+import com.scudata.common.RQException;
 import com.scudata.dm.Context;
+import com.scudata.dm.ObjectReader;
 import com.scudata.expression.Expression;
 
 /**
- * ֶι˱ʽ
+ * 字段过滤表达式
  * @author runqian
  *
  */
@@ -23,12 +26,15 @@ public abstract class IFilter implements Comparable<IFilter> {
 	public static final int OR = 11;
 	
 	protected ColumnMetaData column;
-	protected int priority; // ȼȹȼߵֶΣԽСȼԽ
-	protected String columnName;//д
+	protected int priority; // 优先级，用于排序，先过滤优先级高的字段，数字越小优先级越高
+	protected String columnName;//用于行存
 	
-	public int colCount = 1; //filter漰еĸ
-	protected Expression exp;//filterӦıʽ
-	protected List<ColumnMetaData> columns;//еfilterӦ
+	public int colCount = 1; //filter涉及的列的个数
+	protected Expression exp;//filter对应的表达式
+	protected List<ColumnMetaData> columns;//有的filter对应多个列
+	
+	private ObjectReader blockFilterReader; // 列块过滤信息读取器
+	private int nextFilterBlock; // blockFilterReader下一条过滤信息对应的块号
 	
 	public IFilter() {
 		
@@ -41,7 +47,7 @@ public abstract class IFilter implements Comparable<IFilter> {
 	}
 	
 	/**
-	 * ȡ෴ v ? fʱתʱֶ
+	 * 取运算符的相反运算符，用于 v ? f时的转换，此时字段在右
 	 * @param op
 	 * @return
 	 */
@@ -83,20 +89,78 @@ public abstract class IFilter implements Comparable<IFilter> {
 	}
 	
 	/**
-	 * valueǷƥ˹˱ʽ
+	 * 返回value是否匹配此过滤表达式
 	 * @param value
 	 * @return
 	 */
 	public abstract boolean match(Object value);
 	
 	/**
-	 * [minValue, maxValue]Ƿֵƥ˹˱ʽ
+	 * 返回区间[minValue, maxValue]是否有值匹配此过滤表达式
 	 * @param minValue
 	 * @param maxValue
 	 * @return
 	 */
 	public abstract boolean match(Object minValue, Object maxValue);
 	
+	/**
+	 * 返回指定列块是否可能有值匹配此过滤表达式
+	 * 先用列块的最小值和最大值判断，列有过滤信息时再判断要找的值是否可能在列块中
+	 * @param minValue 列块的最小值
+	 * @param maxValue 列块的最大值
+	 * @param block 块号，从0开始计数，同一个过滤器的块号需要递增
+	 * @return
+	 */
+	public boolean match(Object minValue, Object maxValue, int block) {
+		if (!match(minValue, maxValue)) {
+			return false;
+		}
+		
+		Object []values = getBlockFilterValues();
+		if (values == null) {
+			return true;
+		}
+		
+		BlockFilter blockFilter = readBlockFilter(block);
+		return blockFilter == null || blockFilter.mayContainAny(values);
+	}
+	
+	/**
+	 * 取能匹配此过滤表达式的所有值，用于列块过滤信息判断，不能确定时返回空
+	 * @return
+	 */
+	protected Object[] getBlockFilterValues() {
+		return null;
+	}
+	
+	// 读取指定列块的过滤信息，列没有过滤信息时返回空
+	private BlockFilter readBlockFilter(int block) {
+		ColumnMetaData column = this.column;
+		if (column == null || !column.hasBlockFilter()) {
+			return null;
+		}
+		
+		try {
+			if (blockFilterReader == null || block < nextFilterBlock) {
+				blockFilterReader = column.getBlockFilterReader();
+				nextFilterBlock = 0;
+				if (blockFilterReader == null) {
+					return null;
+				}
+			}
+			
+			ObjectReader reader = blockFilterReader;
+			for (; nextFilterBlock < block; ++nextFilterBlock) {
+				BlockFilter.skip(reader);
+			}
+			
+			nextFilterBlock++;
+			return BlockFilter.read(reader);
+		} catch (IOException e) {
+			throw new RQException(e.getMessage(), e);
+		}
+	}
+	
 	public int compareTo(IFilter o) {
 		if (priority < o.priority) {
 			return -1;
@@ -108,7 +172,7 @@ public abstract class IFilter implements Comparable<IFilter> {
 	}
 	
 	/**
-	 * ǷǶֶor
+	 * 是否是多字段or
 	 * @return
 	 */
 	public boolean isMultiFieldOr() {
@@ -11,7 +11,7 @@ import com.scudata.dm.cursor.MultipathCursors;
 import com.scudata.expression.Expression;
 
 /**
- * ӿ
+ * 基表接口类
  * @author runqian
  *
  */
@@ -20,86 +20,86 @@ public interface IPhyTable extends IResource {
 	void close();	
 	
 	/**
-	 * ½һ
-	 * @param colNames 
-	 * @param serialBytesLen źųȣ0ʾźţ
-	 * @param tableName 
+	 * 新建立一个附表
+	 * @param colNames 列名称
+	 * @param serialBytesLen 排号长度（0表示不是排号）
+	 * @param tableName 表名称
 	 * @return
 	 * @throws IOException
 	 */
 	IPhyTable createAnnexTable(String []colNames, int []serialBytesLen, String tableName) throws IOException;
 	
 	/**
-	 * 򿪸
+	 * 打开附表
 	 * @param tableName
 	 * @return
 	 */
 	IPhyTable getAnnexTable(String tableName);
 
 	/**
-	 * ׷α
+	 * 追加游标的数据
 	 * @param cursor
 	 * @throws IOException
 	 */
 	void append(ICursor cursor) throws IOException;
 	
 	/**
-	 * ׷α
+	 * 追加游标的数据
 	 * @param cursor
-	 * @param opt 'a',׷ӵļ'm',벹ļϲ'i',дļ
+	 * @param opt 'a',追加到补文件；'m',与补文件合并；'i',立即写入文件
 	 * @throws IOException
 	 */
 	void append(ICursor cursor, String opt) throws IOException;
 	
 	/**
-	 * 
-	 * @param data Ҫµ Ҫ
-	 * @param opt 'n',дɹ
+	 * 更新
+	 * @param data 要更新的数据 （必须要主键）
+	 * @param opt 'n',返回写入成功的数据
 	 * @return
 	 * @throws IOException
 	 */
 	Sequence update(Sequence data, String opt) throws IOException;
 	
 	/**
-	 * ɾ
-	 * @param data Ҫµ Ҫ
-	 * @param opt 'n',ɾɹ
+	 * 删除
+	 * @param data 要更新的数据 （必须要主键）
+	 * @param opt 'n',返回删除成功的数据
 	 * @return
 	 * @throws IOException
 	 */
 	Sequence delete(Sequence data, String opt) throws IOException;
 
 	/**
-	 * α
+	 * 返回这个基表的游标
 	 * @return
 	 */
 	ICursor cursor();
 	
 	/**
-	 * α
-	 * @param fields ȡֶ
+	 * 返回这个基表的游标
+	 * @param fields 取出字段
 	 * @return
 	 */
 	ICursor cursor(String []fields);
 	
 	/**
-	 * α
-	 * @param fields ȡֶ
-	 * @param filter ˱ʽ
-	 * @param ctx 
+	 * 返回游标
+	 * @param fields 取出字段
+	 * @param filter 过滤表达式
+	 * @param ctx 上下文
 	 * @return
 	 */
 	ICursor cursor(String []fields, Expression filter, Context ctx);
 	
 	/**
-	 * α
-	 * expsΪnullfieldsΪѡֶ
-	 * @param exps ֶαʽ
-	 * @param fields ѡֶα
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param opts ֶνйѡ
+	 * 返回游标
+	 * 如果exps为null则以fields为选出字段
+	 * @param exps 字段表达式
+	 * @param fields 选出字段别名
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param opts 关联字段进行关联的选项
 	 * @param ctx
 	 * @return
 	 */
@@ -107,14 +107,14 @@ public interface IPhyTable extends IResource {
 			String []fkNames, Sequence []codes, String []opts, Context ctx);
 	
 	/**
-	 * ض·α꣬pathCountΪ1ʱͨα
-	 * @param exps ֶαʽ
-	 * @param fields ѡֶα
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param opts ֶνйѡ
-	 * @param pathCount ·
+	 * 返回多路游标，pathCount为1时返回普通游标
+	 * @param exps 字段表达式
+	 * @param fields 选出字段别名
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param opts 关联字段进行关联的选项
+	 * @param pathCount 路数
 	 * @param ctx
 	 * @return
 	 */
@@ -122,31 +122,31 @@ public interface IPhyTable extends IResource {
 			String []fkNames, Sequence []codes, String []opts, int pathCount, Context ctx);
 	
 	/**
-	 * طֶα
-	 * @param exps ֶαʽ
-	 * @param fields ѡֶα
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param opts ֶνйѡ
-	 * @param segSeq ڼ
-	 * @param segCount  ֶ
-	 * @param ctx 
+	 * 返回分段游标
+	 * @param exps 字段表达式
+	 * @param fields 选出字段别名
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param opts 关联字段进行关联的选项
+	 * @param segSeq 第几段
+	 * @param segCount  分段总数
+	 * @param ctx 上下文
 	 * @return
 	 */
 	ICursor cursor(Expression []exps, String []fields, Expression filter, 
 			String []fkNames, Sequence []codes, String []opts, int pathSeq, int pathCount, Context ctx);
 	
 	/**
-	 * mcsֶͬεĶ·α
-	 * @param exps ֶαʽ
-	 * @param fields ѡֶα
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param opts ֶνйѡ
-	 * @param mcs οֶεĶ·α
-	 * @param opt ѡ
+	 * 返回与mcs同步分段的多路游标
+	 * @param exps 字段表达式
+	 * @param fields 选出字段别名
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param opts 关联字段进行关联的选项
+	 * @param mcs 参考分段的多路游标
+	 * @param opt 选项
 	 * @param ctx
 	 * @return
 	 */
@@ -154,80 +154,80 @@ public interface IPhyTable extends IResource {
 			String []fkNames, Sequence []codes, String []opts, MultipathCursors mcs, String opt, Context ctx);
 
 	/**
-	 * ηֶεα
-	 * ڼȺĽڵ
-	 * @param exps ȡֶαʽexpsΪnullʱfieldsȡ
-	 * @param fields ȡֶε
-	 * @param filter ˱ʽ
-	 * @param fkNames ָFK˵ֶ
-	 * @param codes ָFK˵
-	 * @param opts ֶνйѡ
-	 * @param pathSeq ڼ
-	 * @param pathCount ڵ
-	 * @param pathCount2 ڵָĿ
-	 * @param ctx 
+	 * 二次分段的游标
+	 * 用于集群的节点机
+	 * @param exps 取出字段表达式（当exps为null时按照fields取出）
+	 * @param fields 取出字段的新名称
+	 * @param filter 过滤表达式
+	 * @param fkNames 指定FK过滤的字段名称
+	 * @param codes 指定FK过滤的数据序列
+	 * @param opts 关联字段进行关联的选项
+	 * @param pathSeq 第几段
+	 * @param pathCount 节点机数
+	 * @param pathCount2 节点机上指定的块数
+	 * @param ctx 上下文
 	 * @return
 	 */
 	ICursor cursor(Expression []exps, String []fields, Expression filter, 
 			String []fkNames, Sequence []codes, String []opts, int pathSeq, int pathCount, int pathCount2, Context ctx);
 	
 	/**
-	 * Ҽ¼
-	 * @param values 
-	 * @return values ͬļ¼
+	 * 根据主键查找记录
+	 * @param values 主键数据
+	 * @return 基表里与values 主键相同的记录
 	 * @throws IOException
 	 */
 	Table finds(Sequence values) throws IOException;
 	
 	/**
-	 * Ҽ¼
-	 * @param values 
-	 * @param selFields ȡֶ
-	 * @return values ͬļ¼
+	 * 根据主键查找记录
+	 * @param values 主键数据
+	 * @param selFields 取出字段
+	 * @return 基表里与values 主键相同的记录
 	 * @throws IOException
 	 */
 	Table finds(Sequence values, String []selFields) throws IOException;
 	
 	/**
-	 * ʹѯ
-	 * @param fields ȡֶ
-	 * @param filter ˱ʽ
-	 * @param iname ֶ
-	 * @param opt 'u'ʱ,filterĹȼ
-	 * @param ctx 
-	 * @return α꣬Ҳα
+	 * 使用索引查询
+	 * @param fields 取出字段
+	 * @param filter 过滤表达式
+	 * @param iname 索引字段
+	 * @param opt 包含'u'时,不调整filter里各条件的过滤优先级
+	 * @param ctx 上下文
+	 * @return 索引游标，也可能是其它游标
 	 */
 	ICursor icursor(String []fields, Expression filter, String iname, String opt, Context ctx);
 	
 	/**
-	 * ޸ֶ
-	 * @param srcFields 
-	 * @param newFields 
+	 * 修改字段名
+	 * @param srcFields 旧名称
+	 * @param newFields 新名称
 	 * @param ctx
 	 * @throws IOException
 	 */
 	void rename(String []srcFields, String []newFields, Context ctx) throws IOException;
 	
 	/**
-	 * ֶ
-	 * @return ֶ
+	 * 返回排序字段名（含主表）
+	 * @return 排序字段名数组
 	 */
 	String[] getAllSortedColNames();
 	
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取主键字段名（含主表）
+	 * @return 主键字段名数组
 	 */
 	String[] getAllKeyColNames();
 	
 	/**
-	 * )
+	 * 返回所有列名（含主表)
 	 * @return
 	 */
 	String[] getAllColNames();
 	
 	/**
-	 * ɾ
+	 * 删除索引
 	 * @param indexName
 	 * @return
 	 * @throws IOException
@@ -235,33 +235,33 @@ public interface IPhyTable extends IResource {
 	boolean deleteIndex(String indexName) throws IOException;
 
 	/**
-	 * ½
-	 * @param I 
-	 * @param fields ֶ
-	 * @param obj KVʱʾֵֶƣhashʱʾhashܶ
-	 * @param opt 'a'ʱʾ׷, 'r'ʱʾؽ
-	 * @param w ʱĹ
-	 * @param ctx 
+	 * 新建索引
+	 * @param I 索引名称
+	 * @param fields 字段名称
+	 * @param obj 当KV索引时表示值字段名称，当hash索引时表示hash密度
+	 * @param opt 包含'a'时表示追加, 包含'r'时表示重建索引
+	 * @param w 建立时的过滤条件
+	 * @param ctx 上下文
 	 */
 	void createIndex(String I, String []fields, Object obj, String opt, Expression w, Context ctx);
 	
 	/**
-	 * ȡֲʽ
+	 * 取分布表达式串
 	 * @return
 	 */
 	String getDistribute();
 	
 	/**
-	 * һ
-	 * @param colName 
-	 * @param exp ֵʽ
+	 * 添加一列
+	 * @param colName 列名
+	 * @param exp 列值表达式
 	 * @param ctx 
 	 */
 	void addColumn(String colName, Expression exp, Context ctx);
 	
 	/**
-	 * ɾһ
-	 * @param colName 
+	 * 删除一列
+	 * @param colName 列名
 	 */
 	void deleteColumn(String colName);
 }
\ No newline at end of file
@@ -3,7 +3,7 @@ package com.scudata.dw;
 import com.scudata.dm.Sequence;
 
 /**
- * αķֶνӿ
+ * 游标的分段接口
  * @author runqian
  *
  */
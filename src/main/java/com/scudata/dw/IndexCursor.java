@@ -19,7 +19,7 @@ import com.scudata.dm.cursor.ICursor;
 import com.scudata.dm.cursor.MultipathCursors;
 import com.scudata.resources.EngineMessage;
 /**
- * α
+ * 组表的索引游标类
  * @author runqian
  *
  */
@@ -27,8 +27,8 @@ public class IndexCursor extends ICursor {
 	private int BUFFER_SIZE = 4096;
 	
 	private PhyTable table;
-	private String []fields;//ȡֶ
-	private String []ifields;//ֶ
+	private String []fields;//取出字段
+	private String []ifields;//索引字段
 	private String opt;
 	
 	private DataStruct ds;
@@ -47,47 +47,47 @@ public class IndexCursor extends ICursor {
 	private int curBlock = 0;
 	
 	private int index = 0;
-	private boolean isSorted = false; // αǷ
-	private long []pos;// дα
-	private long [][]posArr;// дαšַ
+	private boolean isSorted = false; // 伪号数组是否已排序
+	private long []pos;// 列存伪号数组
+	private long [][]posArr;// 行存伪号、地址数组
 	private int posCount;
-	private long curNum = 0;//ǰα
-	private int rest = 0;//ǰпʣ
-	private BufferReader []bufReaders;//ǰпreader
+	private long curNum = 0;//当前伪号
+	private int rest = 0;//当前列块的剩余条数
+	private BufferReader []bufReaders;//当前列块的reader
 	
 	private int mindex = 0;
-	ArrayList<ModifyRecord> modifyRecordList;//¼
-	private int []findex; //ѡֶζӦֶκ
+	ArrayList<ModifyRecord> modifyRecordList;//补区记录
+	private int []findex; //补区选出字段对应的字段号
 	
-	private boolean isRow;//Ƿд
+	private boolean isRow;//是否行存
 	private int blockSize;
 	
-	private boolean isPrimaryTable;//Ƿ
+	private boolean isPrimaryTable;//是否基表
 	private PhyTable baseTable;
-	private boolean []isBaseIndex; //ȡֶӱ
+	private boolean []isBaseIndex; //取出字段在主表还是子表
 	
-	//Ǹʱʹ
-	private ColumnMetaData guideColumn;//
+	//以下是附表时使用
+	private ColumnMetaData guideColumn;//导列
 	private BlockLinkReader guideColReader;
 	private ObjectReader guideSegmentReader;
 	private BufferReader guideColBufReader;
 	private BlockLinkReader baseRowCountReader;
-	private Object []baseCurValues;//ĵǰ¼ֵ
+	private Object []baseCurValues;//基表的当前记录值
 	private int baseRest;
 	private long baseCurIndex;
-	private boolean needBaseTable;//ȡлֶ
+	private boolean needBaseTable;//取出数据里有基表的字段
 	
-	private boolean isRealValue;//ͽֱֵǵַkey-value-index
+	private boolean isRealValue;//送进来的是直接值，还是地址。（key-value-index）
 	private Object [] values;
 	private transient int fcount;
 
 	/**
-	 * дα
-	 * recNum¼ȡ
-	 * @param table ԭ
-	 * @param fields ȡֶ
-	 * @param ifields ֶ
-	 * @param recNum ļ¼
+	 * 列存索引游标
+	 * 根据recNum记录号取数
+	 * @param table 原表
+	 * @param fields 取出字段
+	 * @param ifields 索引字段
+	 * @param recNum 结果的记录号
 	 * @param opt
 	 */
 	public IndexCursor(PhyTable table, String []fields, String []ifields, long []recNum, String opt) {
@@ -95,12 +95,12 @@ public class IndexCursor extends ICursor {
 	}
 	
 	/**
-	 * дα
-	 * posĵַȡ
-	 * @param table ԭ
-	 * @param fields ȡֶ
-	 * @param ifields ֶ
-	 * @param pos ĵַ
+	 * 行存索引游标
+	 * 根据pos里的地址取数
+	 * @param table 原表
+	 * @param fields 取出字段
+	 * @param ifields 索引字段
+	 * @param pos 结果的地址
 	 * @param opt
 	 * @param ctx
 	 */
@@ -123,12 +123,12 @@ public class IndexCursor extends ICursor {
 	}
 	
 	/**
-	 * KVα
-	 * valuesҪصݣȥԭȡ
-	 * @param table ԭ
-	 * @param fields ȡֶ
-	 * @param ifields ֶ
-	 * @param values ֵ
+	 * KV索引游标
+	 * values里就是要返回的数据，不用再去原表取数
+	 * @param table 原表
+	 * @param fields 取出字段
+	 * @param ifields 索引字段
+	 * @param values 结果的值
 	 */
 	public IndexCursor(PhyTable table, String []fields, String []ifields, Object []values) {
 		this.table = table;
@@ -213,7 +213,7 @@ public class IndexCursor extends ICursor {
 			}
 		}
 		if (flag && isPrimaryTable && modifyRecordList == null) {
-			//Ҫfindex
+			//不需要findex
 			findex = null;
 		}
 		
@@ -335,7 +335,7 @@ public class IndexCursor extends ICursor {
 		
 		if (!isRow) {
 			long pos = this.pos[index];
-			return pos;//дʱα
+			return pos;//列存时就是伪号
 		}
 		
 		return this.posArr[index][0];
@@ -382,7 +382,7 @@ public class IndexCursor extends ICursor {
 				readBytes(pos, bytes);
 				BufferReader rowDataReader = new BufferReader(table.getStructManager(), bytes);
 				serialBytesLen = baseTable.getSerialBytesLen();
-				rowDataReader.skipObject();//α
+				rowDataReader.skipObject();//伪号
 				for (int f = 0; f < baseCount; ++f) {
 					baseValues[f] = rowDataReader.readObject();
 				}
@@ -396,8 +396,8 @@ public class IndexCursor extends ICursor {
 			pos = posArr[index][2];
 			readBytes(pos, bytes);
 			BufferReader rowDataReader = new BufferReader(table.getStructManager(), bytes);
-			rowDataReader.skipObject();//α
-			rowDataReader.skipObject();//
+			rowDataReader.skipObject();//伪号
+			rowDataReader.skipObject();//导列
 			
 			allCount = table.getColNames().length;
 			values = new Object[allCount + baseKeyCount];
@@ -421,7 +421,7 @@ public class IndexCursor extends ICursor {
 			readBytes(pos, bytes);
 			BufferReader rowDataReader = this.rowDataReader;
 			rowDataReader.reset();
-			rowDataReader.skipObject();//α
+			rowDataReader.skipObject();//伪号
 			values = new Object[allCount];
 			if (serialBytesLen != null) {
 				for (int f = 0; f < allCount; ++f) {
@@ -969,7 +969,7 @@ public class IndexCursor extends ICursor {
 	}
 
 	/**
-	 * ֶκȡֶΣֶ
+	 * 根据索引字段和取出字段，返回有序字段
 	 * @return
 	 */
 	public int[] getSortFieldsIndex() {
@@ -1000,7 +1000,7 @@ public class IndexCursor extends ICursor {
 		if (count == 0) {
 			return null;
 		} else if (count > 0 && count < len) {
-			//ҵ
+			//部分找到
 			int indexs2[] = new int[count];
 			for (int i = 0; i < count; i++) {
 				indexs2[i] = indexs[i];
@@ -1011,14 +1011,14 @@ public class IndexCursor extends ICursor {
 	}
 	
 	/**
-	 * תɶ·α
+	 * 转成多路游标
 	 * @param segCount
 	 * @return
 	 */
 	public ICursor toMultiCursor(int segCount) {
 		ICursor curArr[] = new ICursor[segCount];
 		if (isRealValue) {
-			int size = posCount;//
+			int size = posCount;//总条数
 			int minSize = fcount + 1;
 			int temp = size / segCount;
 			if (temp == 0) {
@@ -1026,7 +1026,7 @@ public class IndexCursor extends ICursor {
 			}
 			int offset = 0;
 			for(int i = 0; i < segCount; i++) {
-				int num;//
+				int num;//本段条数
 				if (temp <= size) {
 					num = temp;
 				} else {
@@ -1044,7 +1044,7 @@ public class IndexCursor extends ICursor {
 				}
 			}
 		} else if (isRow) {
-			int size = posCount;//
+			int size = posCount;//总条数
 			int temp = size / segCount;
 			if (temp == 0) {
 				temp = 1;
@@ -1065,7 +1065,7 @@ public class IndexCursor extends ICursor {
 				}
 			}
 		} else {
-			int size = posCount;//
+			int size = posCount;//总条数
 			int temp = size / segCount;
 			if (temp == 0) {
 				temp = 1;
@@ -1089,8 +1089,8 @@ public class IndexCursor extends ICursor {
 	}
 	
 	/**
-	 * ַȽ
-	 * صĽҪյַ
+	 * 地址比较器
+	 * 返回的结果要按照地址排序
 	 * @author runqian
 	 *
 	 */
@@ -16,8 +16,8 @@ import com.scudata.dm.Table;
 import com.scudata.dm.cursor.ICursor;
 
 /**
- * KVα
- * ȡȫݵ
+ * 遍历KV索引的游标
+ * 用于取全部数据的情况
  * @author runqian
  *
  */
@@ -93,7 +93,7 @@ public class IndexFCursor extends ICursor {
 				}
 			}
 			
-			//value,е,ȡvalueֵ
+			//到了value块了,如果有命中的,取value值
 			reader.readInt();
 			
 			int c = 0;
@@ -107,7 +107,7 @@ public class IndexFCursor extends ICursor {
 					for (int j = 0; j < vcount; ++j) {
 						r.setNormalFieldValue(icount + j, reader.readObject());//values
 					}
-					reader.skipObject();//α
+					reader.skipObject();//伪号
 					mems.add(r);
 				}
 				Table tmp = new Table(ds, ICursor.FETCHCOUNT);
@@ -121,7 +121,7 @@ public class IndexFCursor extends ICursor {
 					for (int j = 0; j < vcount; ++j) {
 						r.setNormalFieldValue(icount + j, reader.readObject());//values
 					}
-					reader.skipObject();//α
+					reader.skipObject();//伪号
 					mems.add(r);
 				}
 			} else {
@@ -133,7 +133,7 @@ public class IndexFCursor extends ICursor {
 					for (int j = 0; j < vcount; ++j) {
 						r.setNormalFieldValue(icount + j, reader.readObject());//values
 					}
-					reader.skipObject();//α
+					reader.skipObject();//伪号
 					mems.add(r);
 				}
 			}
@@ -241,7 +241,7 @@ public class IndexFCursor extends ICursor {
 	}
 	
 	/**
-	 * ֶκȡֶΣֶ
+	 * 根据索引字段和取出字段，返回有序字段
 	 * @return
 	 */
 	public int[] getSortFieldsIndex() {
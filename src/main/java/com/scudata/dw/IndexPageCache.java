@@ -0,0 +1,436 @@
+package com.scudata.dw;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.scudata.common.StringUtils;
+import com.scudata.dm.FileObject;
+import com.scudata.dm.IFile;
+import com.scudata.dm.LocalFile;
+
+/**
+ * 索引文件的页缓存，所有索引共用，点查询读哈希表和桶时不用每次打开文件
+ * 缓存的页不会被修改，命中时不加锁，超过内存上限时淘汰最久没有使用的页
+ * 页用堆内的字节数组存放，堆外缓冲区在垃圾回收时才释放，页换出频繁时会因为堆外内存不足引起停顿
+ * 文件按修改时间和大小区分版本，索引重建或追加后调用remove使旧的页失效，查询前用PageFile.isCurrent检查版本，只缓存本地文件
+ * 内存上限可以用系统属性esproc.indexcache.size设置，单位为MB，设为0时不使用缓存
+ * @author RunQian
+ *
+ */
+public class IndexPageCache {
+	private static final int PAGE_SHIFT = 14;
+	private static final int PAGE_SIZE = 1 << PAGE_SHIFT; // 页大小16K
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+	private static final int FILE_SHIFT = 40; // 页键中文件号的位置，低位是页号
+
+	private static IndexPageCache pageCache = new IndexPageCache();
+
+	// 缓存的页
+	private static class Page {
+		private final ByteBuffer buffer;
+		private long lastUse; // 最后使用的时间，只用于淘汰，多个线程同时写时不需要精确
+
+		Page(ByteBuffer buffer) {
+			this.buffer = buffer;
+			lastUse = System.nanoTime();
+		}
+	}
+
+	/**
+	 * 缓存中的一个版本的索引文件
+	 */
+	public static class PageFile {
+		private final long id; // 文件号
+		private final File file;
+		private final long lastModified;
+		private final long size;
+		private volatile boolean isValid = true;
+
+		private PageFile(long id, File file, long lastModified, long size) {
+			this.id = id;
+			this.file = file;
+			this.lastModified = lastModified;
+			this.size = size;
+		}
+
+		/**
+		 * 取文件打开时的大小
+		 * @return long
+		 */
+		public long size() {
+			return size;
+		}
+
+		/**
+		 * 返回是否还有效，索引文件被改写后失效，需要重新打开
+		 * @return boolean
+		 */
+		public boolean isValid() {
+			return isValid;
+		}
+
+		/**
+		 * 返回文件的修改时间和大小是否还和打开时相同，用于发现其它进程改写了索引文件
+		 * 只取文件属性不加锁，每次查询前调用
+		 * @return boolean
+		 */
+		public boolean isCurrent() {
+			return isValid && file.lastModified() == lastModified && file.length() == size;
+		}
+
+		/**
+		 * 取通过缓存读文件的输入流，支持快速的skip
+		 * @return InputStream
+		 */
+		public InputStream getInputStream() {
+			return new PageInputStream(this);
+		}
+	}
+
+	// 从缓存的页中读数据的输入流
+	private static class PageInputStream extends InputStream {
+		private PageFile file;
+		private long position = 0;
+
+		PageInputStream(PageFile file) {
+			this.file = file;
+		}
+
+		public int read() throws IOException {
+			if (position >= file.size) {
+				return -1;
+			}
+
+			ByteBuffer page = pageCache.getPage(file, position >>> PAGE_SHIFT);
+			int b = page.get((int)(position & PAGE_MASK)) & 0xff;
+			position++;
+			return b;
+		}
+
+		public int read(byte []b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			} else if (position >= file.size) {
+				return -1;
+			}
+
+			ByteBuffer page = pageCache.getPage(file, position >>> PAGE_SHIFT);
+			int offset = (int)(position & PAGE_MASK);
+			int n = Math.min(len, page.limit() - offset);
+
+			// 不改变共享缓冲区的位置，复制一个视图来读
+			ByteBuffer buffer = page.duplicate();
+			buffer.position(offset);
+			buffer.get(b, off, n);
+			position += n;
+			return n;
+		}
+
+		public long skip(long n) {
+			if (n <= 0) {
+				return 0;
+			}
+
+			n = Math.min(n, file.size - position);
+			position += n;
+			return n;
+		}
+
+		public int available() {
+			return (int)Math.min(file.size - position, Integer.MAX_VALUE);
+		}
+	}
+
+	private volatile long maxCacheBytes = 64L * 1024 * 1024; // 缓存占用内存的上限
+
+	// 缓存的页，键的高位是文件号，低位是页号
+	private ConcurrentHashMap<Long, Page> pageMap = new ConcurrentHashMap<Long, Page>();
+	private HashMap<String, PageFile> fileMap = new HashMap<String, PageFile>(); // 文件路径对应的当前版本
+	private long nextFileId = 1;
+	private AtomicLong totalBytes = new AtomicLong(); // 缓存的页占用的内存
+	private ReentrantLock evictLock = new ReentrantLock(); // 同时只有一个线程淘汰页
+
+	private LongAdder hitCount = new LongAdder(); // 页命中的次数
+	private LongAdder missCount = new LongAdder(); // 从文件读页的次数
+	private LongAdder evictCount = new LongAdder(); // 淘汰的页数
+
+	private IndexPageCache() {
+		String size = System.getProperty("esproc.indexcache.size");
+		if (StringUtils.isValidString(size)) {
+			maxCacheBytes = Long.parseLong(size.trim()) * 1024 * 1024;
+		}
+	}
+
+	/**
+	 * 取索引页缓存实例
+	 * @return IndexPageCache
+	 */
+	public static IndexPageCache getInstance() {
+		return pageCache;
+	}
+
+	/**
+	 * 设置缓存占用内存的上限，设为0时不再使用缓存
+	 * @param bytes 字节数
+	 */
+	public void setMaxCacheBytes(long bytes) {
+		maxCacheBytes = bytes;
+		if (bytes <= 0) {
+			clear();
+		} else {
+			evictLock.lock();
+			try {
+				evict();
+			} finally {
+				evictLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 取缓存占用内存的上限
+	 * @return 字节数
+	 */
+	public long getMaxCacheBytes() {
+		return maxCacheBytes;
+	}
+
+	/**
+	 * 打开索引文件的当前版本，文件改变后产生新的版本，旧版本的页被清除
+	 * @param fo 索引文件
+	 * @return PageFile 不使用缓存、不是本地文件或者文件为空时返回空
+	 */
+	public PageFile open(FileObject fo) {
+		if (maxCacheBytes <= 0 || fo.isRemoteFile()) {
+			return null;
+		}
+
+		IFile ifile = fo.getFile();
+		if (!(ifile instanceof LocalFile)) {
+			return null;
+		}
+
+		File file = ((LocalFile)ifile).getFile();
+		if (file == null) {
+			return null;
+		}
+
+		String path = file.getAbsolutePath();
+		long lastModified = file.lastModified();
+		long size = file.length();
+		if (size <= 0) {
+			return null;
+		}
+
+		PageFile old;
+		PageFile pf;
+		synchronized(fileMap) {
+			old = fileMap.get(path);
+			if (old != null && old.isValid && old.lastModified == lastModified && old.size == size) {
+				return old;
+			}
+
+			pf = new PageFile(nextFileId++, file, lastModified, size);
+			fileMap.put(path, pf);
+		}
+
+		if (old != null) {
+			old.isValid = false;
+			removePages(old.id);
+		}
+
+		return pf;
+	}
+
+	/**
+	 * 索引文件被改写后调用，清除文件的页
+	 * @param fo 索引文件
+	 */
+	public void remove(FileObject fo) {
+		if (fo.isRemoteFile()) {
+			return;
+		}
+
+		IFile ifile = fo.getFile();
+		if (!(ifile instanceof LocalFile)) {
+			return;
+		}
+
+		File file = ((LocalFile)ifile).getFile();
+		if (file == null) {
+			return;
+		}
+
+		PageFile pf;
+		synchronized(fileMap) {
+			pf = fileMap.remove(file.getAbsolutePath());
+		}
+
+		if (pf != null) {
+			pf.isValid = false;
+			removePages(pf.id);
+		}
+	}
+
+	// 取文件的页，缓存中没有时从文件读取
+	private ByteBuffer getPage(PageFile pf, long index) throws IOException {
+		Long key = (pf.id << FILE_SHIFT) | index;
+		Page page = pageMap.get(key);
+		if (page != null) {
+			hitCount.increment();
+			page.lastUse = System.nanoTime();
+			return page.buffer;
+		}
+
+		missCount.increment();
+		long start = index << PAGE_SHIFT;
+		int len = (int)Math.min(PAGE_SIZE, pf.size - start);
+		byte []bytes = new byte[len];
+		RandomAccessFile raf = new RandomAccessFile(pf.file, "r");
+		try {
+			raf.seek(start);
+			raf.readFully(bytes);
+		} finally {
+			raf.close();
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		if (maxCacheBytes <= 0 || !pf.isValid) {
+			return buffer;
+		}
+
+		// 多个线程同时读同一页时只保留先放入的
+		page = new Page(buffer);
+		Page old = pageMap.putIfAbsent(key, page);
+		if (old != null) {
+			return old.buffer;
+		}
+
+		// 其它线程正在淘汰时不等待，缓存可以暂时超过上限
+		if (totalBytes.addAndGet(len) > maxCacheBytes && evictLock.tryLock()) {
+			try {
+				evict();
+			} finally {
+				evictLock.unlock();
+			}
+		}
+
+		return buffer;
+	}
+
+	// 清除文件的所有页
+	private void removePages(long id) {
+		Iterator<Map.Entry<Long, Page>> itr = pageMap.entrySet().iterator();
+		while (itr.hasNext()) {
+			Map.Entry<Long, Page> entry = itr.next();
+			if ((entry.getKey() >>> FILE_SHIFT) == id && pageMap.remove(entry.getKey(), entry.getValue())) {
+				totalBytes.addAndGet(-entry.getValue().buffer.capacity());
+			}
+		}
+	}
+
+	// 按最后使用的时间淘汰页，一次淘汰到上限的7/8，避免每次缺页都要排序，需在evictLock内调用
+	private void evict() {
+		long limit = maxCacheBytes;
+		if (totalBytes.get() <= limit) {
+			return;
+		}
+
+		long target = limit - limit / 8;
+		ArrayList<Map.Entry<Long, Page>> list = new ArrayList<Map.Entry<Long, Page>>(pageMap.entrySet());
+		Collections.sort(list, new Comparator<Map.Entry<Long, Page>>() {
+			public int compare(Map.Entry<Long, Page> o1, Map.Entry<Long, Page> o2) {
+				return Long.compare(o1.getValue().lastUse, o2.getValue().lastUse);
+			}
+		});
+
+		for (Map.Entry<Long, Page> entry : list) {
+			if (totalBytes.get() <= target) {
+				break;
+			}
+
+			if (pageMap.remove(entry.getKey(), entry.getValue())) {
+				totalBytes.addAndGet(-entry.getValue().buffer.capacity());
+				evictCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * 清除缓存的页
+	 */
+	public void clear() {
+		synchronized(fileMap) {
+			for (PageFile pf : fileMap.values()) {
+				pf.isValid = false;
+			}
+
+			fileMap.clear();
+		}
+
+		removePages();
+	}
+
+	private void removePages() {
+		for (Map.Entry<Long, Page> entry : pageMap.entrySet()) {
+			if (pageMap.remove(entry.getKey(), entry.getValue())) {
+				totalBytes.addAndGet(-entry.getValue().buffer.capacity());
+			}
+		}
+	}
+
+	/**
+	 * 取页命中的次数
+	 * @return long
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * 取从文件读页的次数
+	 * @return long
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * 取因为超过内存上限被淘汰的页数
+	 * @return long
+	 */
+	public long getEvictCount() {
+		return evictCount.sum();
+	}
+
+	/**
+	 * 取缓存的页占用的内存
+	 * @return 字节数
+	 */
+	public long getCacheBytes() {
+		return totalBytes.get();
+	}
+
+	/**
+	 * 取页的命中率
+	 * @return 0到1之间的数，没有读过页时返回0
+	 */
+	public double getHitRate() {
+		long hit = hitCount.sum();
+		long total = hit + missCount.sum();
+		return total == 0 ? 0 : (double)hit / total;
+	}
+}
@@ -36,75 +36,75 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * T.new T.derive T.newsα
+ * 用于T.new T.derive T.news的游标
  * @author runqian
  *
  */
 public class JoinCursor extends ICursor {
 	private IPhyTable table;
-	private Expression []exps;//ȡʽ
-	private String []fields;//ȡֶ
+	private Expression []exps;//取出表达式
+	private String []fields;//取出字段名
 	
-	//filters
+	//filters相关
 	private String []fkNames;
 	private Sequence []codes;
 	private String []opts;
 	private IFilter []filters;
 	private FindFilter []findFilters;
 	private Expression unknownFilter;
-	private int keyColCount;//ֶ (ȥ֮ģ)
-	private int keyColIndex[];//Tȡе±
-	private int keyOffset;//ȥغTȡеĿʼλ
+	private int keyColCount;//主键字段数 (去重之后的，主键可能在条件列里)
+	private int keyColIndex[];//主键在T的取出列的下标
+	private int keyOffset;//主键（去重后）在T的取出列的开始位置
 	
 	private boolean isClosed;
-	private boolean isNew;//new
-	private boolean isNews;//news
+	private boolean isNew;//是new函数
+	private boolean isNews;//是news函数
 	private DataStruct ds;
 
-	private int endBlock; // 
+	private int endBlock; // 不包含
 	private int curBlock = 0;
 	private ColumnMetaData []columns;
 	private BlockLinkReader rowCountReader;
 	private BlockLinkReader []colReaders;
 	private ObjectReader []segmentReaders;
 	private BufferReader []bufReaders;
-	private int len1;//ǰ
-	private Object []keys1;//ǰkeyֵ
-	private BaseRecord r;//ǰ¼
+	private int len1;//当前块的条数
+	private Object []keys1;//当前key值
+	private BaseRecord r;//当前记录
 	
 	private ICursor cursor2;//A/cs
-	private String[] csNames;//A/cs:KKָA/csӵֶ
+	private String[] csNames;//A/cs:K的K，用于指定A/cs参与连接的字段
 	private Sequence cache2;
 
 	private int cur1 = -1;
 	private int cur2 = -1;
 	
-	private int keyCount;//ֶ
+	private int keyCount;//主键字段数
 	
-	private int csFieldsCount;//A/csֶθ
-	private int []keyIndex2;//A/cs±
+	private int csFieldsCount;//A/cs的字段个数
+	private int []keyIndex2;//A/cs的主键下标
 	
-	private int []fieldIndex1;//ֶTȡֶε±
-	private int []fieldIndex2;//ֶcsȡֶε±
+	private int []fieldIndex1;//返回字段在T取出字段的下标
+	private int []fieldIndex2;//返回字段在cs取出字段的下标
 	
-	private boolean hasExps;//бʽ
-	private boolean hasR;//r
-	private DataStruct ds1;//Tȡһݻʱ
+	private boolean hasExps;//有表达式
+	private boolean hasR;//有属性r
+	private DataStruct ds1;//从T中取出一组数据汇总时用
 	
-	private boolean needSkipSeg;//ȡǰҪ
-	private Node nodes[];//бʽʱʽhomeڵ
+	private boolean needSkipSeg;//取数前需要跳段
+	private Node nodes[];//有表达式时，表达式的home节点存在这里
 
 	/**
 	 * 
-	 * @param table 
-	 * @param exps ȡʽ
-	 * @param fields ȡֶ
-	 * @param cursor2 cs
-	 * @param csNames KָA/csӵֶ
-	 * @param type	ͣ0:derive; 1:new; 2:news; 0x1X ʾ;
-	 * @param option ѡ	
-	 * @param filter tableĹ
-	 * @param fkNames tableSwitch
+	 * @param table 基表
+	 * @param exps 取出表达式
+	 * @param fields 取出字段名称
+	 * @param cursor2 参数cs
+	 * @param csNames 参数K，指定A/cs参与连接的字段
+	 * @param type	计算类型，0:derive; 1:new; 2:news; 0x1X 表示跳段;
+	 * @param option 选项	
+	 * @param filter 对table的过滤条件
+	 * @param fkNames 对table的Switch过滤条件
 	 * @param codes
 	 * @param ctx
 	 */
@@ -235,7 +235,7 @@ public class JoinCursor extends ICursor {
 			if (modifyRecords != null || exps != null) {
 				unknownFilter = exp;
 			} else {
-				//ĿǰֻŻûвûбʽ
+				//目前只优化没有补区和没有表达式的情况
 				filters = ((ColumnsOr)obj).toArray();
 			}
 		} else {
@@ -244,17 +244,17 @@ public class JoinCursor extends ICursor {
 	}
 	
 	private void init() {
-		String []keyNames;//T
+		String []keyNames;//T的主键
 		if (table instanceof IPhyTable) {
 			keyNames = ((IPhyTable) table).getAllSortedColNames();
 		} else {
 			keyNames = ((ClusterPhyTable) table).getAllSortedColNames();
 		}
 		
-		String []joinNames = keyNames;//joinֶΣĬȡT
+		String []joinNames = keyNames;//join字段，默认取T的主键
 		
-		//õcsds
-		DataStruct ds2;//csĽṹ
+		//得到cs的ds
+		DataStruct ds2;//cs的结构
 		Sequence seq = cursor2.peek(1);
 		if (seq == null) {
 			isClosed = true;
@@ -263,7 +263,7 @@ public class JoinCursor extends ICursor {
 		ds2 = ((BaseRecord) seq.get(1)).dataStruct();
 		
 		if (isNew) {
-			//newʱT
+			//new时就是T的主键
 			if (joinNames == null) {
 				MessageManager mm = EngineMessage.get();
 				throw new RQException(mm.getMessage("ds.lessKey"));
@@ -284,9 +284,9 @@ public class JoinCursor extends ICursor {
 				}
 			}
 		} else {
-			//newsʱȡcs
+			//news时取cs的主键
 			
-			//1.õcs±
+			//1.得到cs主键的下标
 			if (csNames == null) {
 				keyIndex2 = ds2.getPKIndex();
 			} else {
@@ -302,8 +302,8 @@ public class JoinCursor extends ICursor {
 			}
 			keyCount = keyIndex2.length;
 			
-			//2.ȡTǰֶ
-			joinNames = new String[keyCount];//ʱT
+			//2.取T前面的字段
+			joinNames = new String[keyCount];//此时不是T的主键
 			String[] allNames;
 			if (table instanceof IPhyTable) {
 				allNames = ((IPhyTable) table).getAllColNames();
@@ -315,10 +315,10 @@ public class JoinCursor extends ICursor {
 			}
 		}
 		
-		//ʼ֯ȡֶ: [filters(ܰ)]+[wõֶ]+[]+[Tѡֶ]+[csֶ]
+		//开始组织取出字段: [filters列(可能包含主键)]+[条件w里用到其它字段]+[主键]+[T选出字段]+[cs字段]
 		ArrayList<String> allList = new ArrayList<String>();
 		
-		//1. filtersֶΣܰ
+		//1. filters字段，可能包含主键
 		ArrayList<String> filtersList = new ArrayList<String>();
 		if (filters != null) {
 			for (IFilter filter : filters) {
@@ -327,10 +327,10 @@ public class JoinCursor extends ICursor {
 			}
 		}
 		
-		//2. wҪȡֶ
+		//2. 条件w需要的其它取出字段
 		ArrayList<String> tempList = new ArrayList<String>();
 		if (unknownFilter != null) {
-			// 鲻ʶıʽǷûѡֶΣ뵽ѡֶ
+			// 检查不可识别的表达式里是否引用了没有选出的字段，如果引用了则加入到选出字段里
 			unknownFilter.getUsedFields(ctx, tempList);
 			if (tempList.size() > 0) {
 				for (String name : tempList) {
@@ -343,8 +343,8 @@ public class JoinCursor extends ICursor {
 		}
 		allList.addAll(filtersList);
 				
-		//3. ֶ
-		ArrayList<String> keyList = new ArrayList<String>();//ȡTcsС,join
+		//3. 主键字段
+		ArrayList<String> keyList = new ArrayList<String>();//取T和cs的最小交集,用于join
 		for (int i = 0; i < keyCount; i++) {
 			String f = joinNames[i];
 			keyList.add(f);
@@ -352,16 +352,16 @@ public class JoinCursor extends ICursor {
 				allList.add(f);
 			}
 		}
-		ArrayList<String> allkeyList = new ArrayList<String>();//TжȡֶǷTУ
+		ArrayList<String> allkeyList = new ArrayList<String>();//T主键（用于判断取出字段里是否包含了T主键所有）
 		if (keyNames != null) {
 			for(String f : keyNames) {
 				allkeyList.add(f);
 			}
 		}
 		
-		//4. ѡֶΣexps{}ʱҪչõȡֶ
-		ArrayList<String> fetchKeyList = new ArrayList<String>();//ȡֶֶ
-		int fetchKeyListFlag[] = new int[keyNames == null ? 0 : keyNames.length];//־TֶǷ񶼳ȡֶ
+		//4. 选出字段，exps里可能有{……}，这时要展开得到取出字段
+		ArrayList<String> fetchKeyList = new ArrayList<String>();//保存取出字段里可能是主键的字段
+		int fetchKeyListFlag[] = new int[keyNames == null ? 0 : keyNames.length];//标志：T的主键字段是否都出现在取出字段
 		for (int i = 0, len = exps.length; i < len; i++) {
 			Expression exp = exps[i];
 			if (exp == null) {
@@ -380,7 +380,7 @@ public class JoinCursor extends ICursor {
 					allList.add(f);
 				}
 				
-				//жfǷ
+				//判断f是否在主键里
 				int idx = allkeyList.indexOf(f);
 				if (idx >= 0) {
 					fetchKeyList.add(fields[i]);
@@ -417,11 +417,11 @@ public class JoinCursor extends ICursor {
 			}
 		}
 		
-		//Ҫȡ
+		//所有需要读取的列
 		String[] allExpNames = new String[allList.size()];
 		allList.toArray(allExpNames);
 		
-		//бʽʱҪnode
+		//有表达式时要保存计算node
 		if (hasExps) {
 			int len = exps.length;
 			nodes = new Node[len];
@@ -430,7 +430,7 @@ public class JoinCursor extends ICursor {
 			}
 		}
 		
-		//õеColumn
+		//得到所有的Column
 		if (table instanceof ColPhyTable) {
 			columns = ((ColPhyTable) table).getColumns(allExpNames);
 			int colCount = columns.length;
@@ -449,11 +449,11 @@ public class JoinCursor extends ICursor {
 			endBlock = ((PhyTable) table).getDataBlockCount();
 		}
 		
-		//õصds
+		//得到返回的ds
 		if (isNew || isNews) {
 			ds = new DataStruct(fields);
 		} else {
-			//deriveʱҪcsֶ
+			//derive时要加上cs的字段
 			csFieldsCount = ds2.getFieldCount();
 			String[] fieldNames = new String[csFieldsCount + fields.length];
 			System.arraycopy(ds2.getFieldNames(), 0, fieldNames, 0, csFieldsCount);
@@ -461,7 +461,7 @@ public class JoinCursor extends ICursor {
 			ds = new DataStruct(fieldNames);
 		}
 		
-		//ȡֶǷ
+		//取出字段里是否包含主键
 		boolean hasKey = true;
 		for (int i : fetchKeyListFlag) {
 			if (i != 1) {
@@ -475,7 +475,7 @@ public class JoinCursor extends ICursor {
 			ds.setPrimary(keys);
 		}
 		
-		//ѡֶοTҲcsҲTıʽ
+		//选出字段可能在T里，也可能在cs里，也可能是T的表达式
 		ds1 = new DataStruct(allExpNames);
 		if (!hasExps) {
 			int len = fields.length;
@@ -522,7 +522,7 @@ public class JoinCursor extends ICursor {
 	}
 
 	/**
-	 * csȡһ
+	 * 从cs里取一段数据
 	 * @return
 	 */
 	private int loadBlock() {
@@ -556,7 +556,7 @@ public class JoinCursor extends ICursor {
 							segmentReaders[f].skipObject();
 							for (int i = 0, len = keyColIndex.length; i < len; i++) {
 								if (f == keyColIndex[i]) {
-									if (!filters[f].match(minValue, maxValue)) {
+									if (!filters[f].match(minValue, maxValue, curBlock - 1)) {
 										++f;
 										sign = false;
 										break NEXT;
@@ -593,8 +593,8 @@ public class JoinCursor extends ICursor {
 	}
 
 	/**
-	 * ǰȸA/csֵ
-	 * @param vals A/cs
+	 * 读数前先根据A/cs的首值进行跳段
+	 * @param vals A/cs的首条
 	 */
 	private void skipSegment(Object vals[]) {
 		int blockCount = endBlock;
@@ -675,7 +675,7 @@ public class JoinCursor extends ICursor {
 	}
 	
 	/**
-	 * T.newȡ
+	 * T.new的取数
 	 * @param n
 	 * @return
 	 */
@@ -785,7 +785,7 @@ public class JoinCursor extends ICursor {
 					
 
 					if (hasR) {
-						//һȡ
+						//把这一组取完
 						cur2++;
 						if (cur2 > len2) {
 							cur2 = 1;
@@ -908,7 +908,7 @@ public class JoinCursor extends ICursor {
 	}
 
 	/**
-	 * T.newfiltersʱȡ¼(޾ۺ)
+	 * T.new有filters时的取记录(无聚合)
 	 * @param n
 	 * @return
 	 */
@@ -923,7 +923,7 @@ public class JoinCursor extends ICursor {
 		Object []keys2 = new Object[keyCount];
 		Object []keys1 = this.keys1;
 		
-		//ȡһcs
+		//取出来一段cs的数据
 		if (cache2 == null || cache2.length() == 0) {
 			cache2 = cursor2.fetch(ICursor.FETCHCOUNT);
 			cur2 = 1;
@@ -993,12 +993,12 @@ public class JoinCursor extends ICursor {
 					stack.push(r);
 				}
 				
-				//˳һ
+				//过滤出一条符合条件的
 				while (true) {
-					//filter
+					//检查filter
 					boolean flag = true;
 					int f = 0;
-					//ȶȡfilter
+					//先读取filter列
 					for (; f < filterAllCount; f++) {
 						objs[f] = bufReaders[f].readObject();
 						flag = filters[f].match(objs[f]);
@@ -1011,14 +1011,14 @@ public class JoinCursor extends ICursor {
 						}
 					}
 					if (flag && unknownFilter != null) {
-						//ƥ,ҪunknownFilter
+						//都匹配,还要检查unknownFilter
 						for (; f < keyOffset; f++) {
 							objs[f] = bufReaders[f].readObject();
 						}
 						flag = Variant.isTrue(unknownFilter.calculate(ctx));
 					}
 					if (flag) {
-						//ȡʣkeyֶ,֯keys1
+						//读取剩余key字段,组织keys1
 						for (; f < valueOffset; f++) {
 							objs[f] = bufReaders[f].readObject();
 						}
@@ -1027,13 +1027,13 @@ public class JoinCursor extends ICursor {
 						}
 						break;
 					} else {
-						//
+						//跳过其余的
 						for (; f < colCount; f++) {
 							 bufReaders[f].skipObject();
 						}
 					}
 					
-					//һ
+					//读下一条
 					cur1++;
 					if (cur1 > len1) {
 						cur1 = 1;
@@ -1057,7 +1057,7 @@ public class JoinCursor extends ICursor {
 			while (true) {
 				int cmp = Variant.compareArrays(keys2, keys1);
 				if (cmp == 0) {
-					//ȡʣֶ
+					//读取剩余字段
 					for (int f = valueOffset; f < colCount; f++) {
 						objs[f] = bufReaders[f].readObject();
 					}
@@ -1071,7 +1071,7 @@ public class JoinCursor extends ICursor {
 					}
 
 					if (hasR) {
-						//һȡ
+						//把这一组取完
 						cur2++;
 						if (cur2 > len2) {
 							cur2 = 1;
@@ -1118,7 +1118,7 @@ public class JoinCursor extends ICursor {
 					}
 				
 					
-					//ȡһ
+					//取出下一条符合条件的
 					while (true) {
 						cur1++;
 						if (cur1 > len1) {
@@ -1131,10 +1131,10 @@ public class JoinCursor extends ICursor {
 								break EXIT;
 							}
 						}
-						//filter
+						//检查filter
 						boolean flag = true;
 						int f = 0;
-						//ȶȡfilter
+						//先读取filter列
 						for (; f < filterAllCount; f++) {
 							objs[f] = bufReaders[f].readObject();
 							flag = filters[f].match(objs[f]);
@@ -1147,14 +1147,14 @@ public class JoinCursor extends ICursor {
 							}
 						}
 						if (flag && unknownFilter != null) {
-							//ƥ,ҪunknownFilter
+							//都匹配,还要检查unknownFilter
 							for (; f < keyOffset; f++) {
 								objs[f] = bufReaders[f].readObject();
 							}
 							flag = Variant.isTrue(unknownFilter.calculate(ctx));
 						}
 						if (flag) {
-							//ȡʣkeyֶ,֯keys1
+							//读取剩余key字段,组织keys1
 							for (; f < valueOffset; f++) {
 								objs[f] = bufReaders[f].readObject();
 							}
@@ -1163,18 +1163,18 @@ public class JoinCursor extends ICursor {
 							}
 							break;
 						} else {
-							//
+							//跳过其余的
 							for (; f < colCount; f++) {
 								 bufReaders[f].skipObject();
 							}
 						}
 					}
 				} else if (cmp > 0) {
-					//
+					//跳过其他
 					for (int f = valueOffset; f < colCount; f++) {
 						bufReaders[f].skipObject();
 					}
-					//ȡһ
+					//取出下一条符合条件的
 					while (true) {
 						cur1++;
 						if (cur1 > len1) {
@@ -1187,10 +1187,10 @@ public class JoinCursor extends ICursor {
 								break EXIT;
 							}
 						}
-						//filter
+						//检查filter
 						boolean flag = true;
 						int f = 0;
-						//ȶȡfilter
+						//先读取filter列
 						for (; f < filterAllCount; f++) {
 							objs[f] = bufReaders[f].readObject();
 							flag = filters[f].match(objs[f]);
@@ -1203,14 +1203,14 @@ public class JoinCursor extends ICursor {
 							}
 						}
 						if (flag && unknownFilter != null) {
-							//ƥ,ҪunknownFilter
+							//都匹配,还要检查unknownFilter
 							for (; f < keyOffset; f++) {
 								objs[f] = bufReaders[f].readObject();
 							}
 							flag = Variant.isTrue(unknownFilter.calculate(ctx));
 						}
 						if (flag) {
-							//ȡʣkeyֶ,֯keys1
+							//读取剩余key字段,组织keys1
 							for (; f < valueOffset; f++) {
 								objs[f] = bufReaders[f].readObject();
 							}
@@ -1219,7 +1219,7 @@ public class JoinCursor extends ICursor {
 							}
 							break;
 						} else {
-							//
+							//跳过其余的
 							for (; f < colCount; f++) {
 								 bufReaders[f].skipObject();
 							}
@@ -1272,7 +1272,7 @@ public class JoinCursor extends ICursor {
 	}
 
 	/**
-	 * T.newȡֶǱʽʱ
+	 * T.new取出字段是表达式时
 	 * @param n
 	 * @return
 	 */
@@ -1287,7 +1287,7 @@ public class JoinCursor extends ICursor {
 		Object []keys2 = new Object[keyCount];
 		Object []keys1 = this.keys1;
 		
-		//ȡһcs
+		//取出来一段cs的数据
 		if (cache2 == null || cache2.length() == 0) {
 			cache2 = cursor2.fetch(ICursor.FETCHCOUNT);
 			cur2 = 1;
@@ -1342,7 +1342,7 @@ public class JoinCursor extends ICursor {
 			newTable = new Table(ds, n);
 		}
 
-		Table tempTable = new Table(cache2.dataStruct());//ڻ
+		Table tempTable = new Table(cache2.dataStruct());//用于汇总
 		
 		try {
 			if (keys1 == null) {
@@ -1354,12 +1354,12 @@ public class JoinCursor extends ICursor {
 					stack.push(r);
 				}
 				
-				//˳һ
+				//过滤出一条符合条件的
 				while (true) {
-					//filter
+					//检查filter
 					boolean flag = true;
 					int f = 0;
-					//ȶȡfilter
+					//先读取filter列
 					for (; f < filterAllCount; f++) {
 						objs[f] = bufReaders[f].readObject();
 						flag = filters[f].match(objs[f]);
@@ -1372,14 +1372,14 @@ public class JoinCursor extends ICursor {
 						}
 					}
 					if (flag && unknownFilter != null) {
-						//ƥ,ҪunknownFilter
+						//都匹配,还要检查unknownFilter
 						for (; f < keyOffset; f++) {
 							objs[f] = bufReaders[f].readObject();
 						}
 						flag = Variant.isTrue(unknownFilter.calculate(ctx));
 					}
 					if (flag) {
-						//ȡʣkeyֶ,֯keys1
+						//读取剩余key字段,组织keys1
 						for (; f < valueOffset; f++) {
 							objs[f] = bufReaders[f].readObject();
 						}
@@ -1388,13 +1388,13 @@ public class JoinCursor extends ICursor {
 						}
 						break;
 					} else {
-						//
+						//跳过其余的
 						for (; f < colCount; f++) {
 							 bufReaders[f].skipObject();
 						}
 					}
 					
-					//һ
+					//读下一条
 					cur1++;
 					if (cur1 > len1) {
 						cur1 = 1;
@@ -1417,7 +1417,7 @@ public class JoinCursor extends ICursor {
 			while (true) {
 				int cmp = Variant.compareArrays(keys2, keys1);
 				if (cmp == 0) {
-					//һʱtable
+					//把这一条加入临时汇总table
 					tempTable.add(record2);
 					
 					cur2++;
@@ -1438,15 +1438,15 @@ public class JoinCursor extends ICursor {
 					}
 					
 					if (0 != Variant.compareArrays(keys2, keys1)) {
-						//ȡʣֶ
+						//读取剩余字段
 						for (int f = valueOffset; f < colCount; f++) {
 							objs[f] = bufReaders[f].readObject();
 						}
-						//ȣʾһȡˣʱ
+						//如果不相等，表示这一组取完了，计算临时汇总数据
 						BaseRecord record = newTable.newLast();
 						calcExpsForNew(record, tempTable, r, len);
 						
-						//ȡһ
+						//取出下一条符合条件的
 						while (true) {
 							cur1++;
 							if (cur1 > len1) {
@@ -1459,10 +1459,10 @@ public class JoinCursor extends ICursor {
 									break EXIT;
 								}
 							}
-							//filter
+							//检查filter
 							boolean flag = true;
 							int f = 0;
-							//ȶȡfilter
+							//先读取filter列
 							for (; f < filterAllCount; f++) {
 								objs[f] = bufReaders[f].readObject();
 								flag = filters[f].match(objs[f]);
@@ -1475,14 +1475,14 @@ public class JoinCursor extends ICursor {
 								}
 							}
 							if (flag && unknownFilter != null) {
-								//ƥ,ҪunknownFilter
+								//都匹配,还要检查unknownFilter
 								for (; f < keyOffset; f++) {
 									objs[f] = bufReaders[f].readObject();
 								}
 								flag = Variant.isTrue(unknownFilter.calculate(ctx));
 							}
 							if (flag) {
-								//ȡʣkeyֶ,֯keys1
+								//读取剩余key字段,组织keys1
 								for (; f < valueOffset; f++) {
 									objs[f] = bufReaders[f].readObject();
 								}
@@ -1491,7 +1491,7 @@ public class JoinCursor extends ICursor {
 								}
 								break;
 							} else {
-								//
+								//跳过其余的
 								for (; f < colCount; f++) {
 									 bufReaders[f].skipObject();
 								}
@@ -1499,11 +1499,11 @@ public class JoinCursor extends ICursor {
 						}
 					}
 				} else if (cmp > 0) {
-					//
+					//跳过其他
 					for (int f = valueOffset; f < colCount; f++) {
 						bufReaders[f].skipObject();
 					}
-					//ȡһ
+					//取出下一条符合条件的
 					while (true) {
 						cur1++;
 						if (cur1 > len1) {
@@ -1516,10 +1516,10 @@ public class JoinCursor extends ICursor {
 								break EXIT;
 							}
 						}
-						//filter
+						//检查filter
 						boolean flag = true;
 						int f = 0;
-						//ȶȡfilter
+						//先读取filter列
 						for (; f < filterAllCount; f++) {
 							objs[f] = bufReaders[f].readObject();
 							flag = filters[f].match(objs[f]);
@@ -1532,14 +1532,14 @@ public class JoinCursor extends ICursor {
 							}
 						}
 						if (flag && unknownFilter != null) {
-							//ƥ,ҪunknownFilter
+							//都匹配,还要检查unknownFilter
 							for (; f < keyOffset; f++) {
 								objs[f] = bufReaders[f].readObject();
 							}
 							flag = Variant.isTrue(unknownFilter.calculate(ctx));
 						}
 						if (flag) {
-							//ȡʣkeyֶ,֯keys1
+							//读取剩余key字段,组织keys1
 							for (; f < valueOffset; f++) {
 								objs[f] = bufReaders[f].readObject();
 							}
@@ -1548,7 +1548,7 @@ public class JoinCursor extends ICursor {
 							}
 							break;
 						} else {
-							//
+							//跳过其余的
 							for (; f < colCount; f++) {
 								 bufReaders[f].skipObject();
 							}
@@ -1579,11 +1579,11 @@ public class JoinCursor extends ICursor {
 			}
 			
 			if (isClosed && tempTable != null && tempTable.length() != 0) {
-				//ȡʣֶ
+				//读取剩余字段
 				for (int f = valueOffset; f < colCount; f++) {
 					objs[f] = bufReaders[f].readObject();
 				}
-				//ȣʾһȡˣʱ
+				//如果不相等，表示这一组取完了，计算临时汇总数据
 				BaseRecord record = newTable.newLast();
 				calcExpsForNew(record, tempTable, r, len);
 			}
@@ -1611,7 +1611,7 @@ public class JoinCursor extends ICursor {
 	}
 
 	/**
-	 * T.newsȡ
+	 * T.news的取数
 	 * @param n
 	 * @return
 	 */
@@ -1672,7 +1672,7 @@ public class JoinCursor extends ICursor {
 		} else {
 			newTable = new Table(ds, n);
 		}
-		Table tempTable = new Table(ds1);//ڻ
+		Table tempTable = new Table(ds1);//用于汇总
 		
 		try {
 			if (keys1 == null) {
@@ -1695,7 +1695,7 @@ public class JoinCursor extends ICursor {
 					
 					BaseRecord record = newTable.newLast();
 					if (hasExps) {
-						tempTable.newLast(keys1);//ӵʱ
+						tempTable.newLast(keys1);//添加到临时汇总
 					} else {
 						for (int i = 0; i < len; i++) {
 							int idx = fieldIndex1[i];
@@ -1723,12 +1723,12 @@ public class JoinCursor extends ICursor {
 				
 					if (hasR) {
 						if (hasExps) {
-							//һȡ
+							//把这一组取完
 							while(Variant.compareArrays(keys2, keys1) == 0) {
 								for (int f = keyCount; f < colCount; f++) {
 									keys1[f] = bufReaders[f].readObject();
 								}
-								tempTable.newLast(keys1);//ӵʱ
+								tempTable.newLast(keys1);//添加到临时汇总
 								cur1++;
 								if (cur1 > len1) {
 									cur1 = 1;
@@ -1748,7 +1748,7 @@ public class JoinCursor extends ICursor {
 							calcExpsForNews(record, tempTable, record2, len);
 						}
 						
-						//cs
+						//按照cs对齐
 						cur2++;
 						if (cur2 > len2) {
 							cur2 = 1;
@@ -1828,7 +1828,7 @@ public class JoinCursor extends ICursor {
 	}
 	
 	/**
-	 * T.newsfiltersʱȡ¼
+	 * T.news有filters时的取记录
 	 * @param n
 	 * @return
 	 */
@@ -1843,7 +1843,7 @@ public class JoinCursor extends ICursor {
 		Object []keys2 = new Object[keyCount];
 		Object []keys1 = this.keys1;
 		
-		//ȡһcs
+		//取出来一段cs的数据
 		if (cache2 == null || cache2.length() == 0) {
 			cache2 = cursor2.fetch(ICursor.FETCHCOUNT);
 			cur2 = 1;
@@ -1903,7 +1903,7 @@ public class JoinCursor extends ICursor {
 		} else {
 			newTable = new Table(ds, n);
 		}
-		Table tempTable = new Table(ds1);//ڻ
+		Table tempTable = new Table(ds1);//用于汇总
 
 		try {
 			if (keys1 == null) {
@@ -1915,12 +1915,12 @@ public class JoinCursor extends ICursor {
 					stack.push(r);
 				}
 				
-				//˳һ
+				//过滤出一条符合条件的
 				while (true) {
-					//filter
+					//检查filter
 					boolean flag = true;
 					int f = 0;
-					//ȶȡfilter
+					//先读取filter列
 					for (; f < filterAllCount; f++) {
 						objs[f] = bufReaders[f].readObject();
 						flag = filters[f].match(objs[f]);
@@ -1933,14 +1933,14 @@ public class JoinCursor extends ICursor {
 						}
 					}
 					if (flag && unknownFilter != null) {
-						//ƥ,ҪunknownFilter
+						//都匹配,还要检查unknownFilter
 						for (; f < keyOffset; f++) {
 							objs[f] = bufReaders[f].readObject();
 						}
 						flag = Variant.isTrue(unknownFilter.calculate(ctx));
 					}
 					if (flag) {
-						//ȡʣkeyֶ,֯keys1
+						//读取剩余key字段,组织keys1
 						for (; f < valueOffset; f++) {
 							objs[f] = bufReaders[f].readObject();
 						}
@@ -1949,13 +1949,13 @@ public class JoinCursor extends ICursor {
 						}
 						break;
 					} else {
-						//
+						//跳过其余的
 						for (; f < colCount; f++) {
 							 bufReaders[f].skipObject();
 						}
 					}
 					
-					//һ
+					//读下一条
 					cur1++;
 					if (cur1 > len1) {
 						cur1 = 1;
@@ -1979,13 +1979,13 @@ public class JoinCursor extends ICursor {
 			while (true) {
 				int cmp = Variant.compareArrays(keys2, keys1);
 				if (cmp == 0) {
-					//ȡʣֶ
+					//读取剩余字段
 					for (int f = valueOffset; f < colCount; f++) {
 						objs[f] = bufReaders[f].readObject();
 					}
 					BaseRecord record = newTable.newLast();
 					if (hasExps) {
-						tempTable.newLast(objs);//ӵʱ
+						tempTable.newLast(objs);//添加到临时汇总
 					} else {
 						for (int i = 0; i < len; i++) {
 							int idx = fieldIndex1[i];
@@ -1996,7 +1996,7 @@ public class JoinCursor extends ICursor {
 						}
 					}
 					
-					//ȡһ
+					//取出下一条符合条件的
 					while (true) {
 						cur1++;
 						if (cur1 > len1) {
@@ -2009,10 +2009,10 @@ public class JoinCursor extends ICursor {
 								break EXIT;
 							}
 						}
-						//filter
+						//检查filter
 						boolean flag = true;
 						int f = 0;
-						//ȶȡfilter
+						//先读取filter列
 						for (; f < filterAllCount; f++) {
 							objs[f] = bufReaders[f].readObject();
 							flag = filters[f].match(objs[f]);
@@ -2025,14 +2025,14 @@ public class JoinCursor extends ICursor {
 							}
 						}
 						if (flag && unknownFilter != null) {
-							//ƥ,ҪunknownFilter
+							//都匹配,还要检查unknownFilter
 							for (; f < keyOffset; f++) {
 								objs[f] = bufReaders[f].readObject();
 							}
 							flag = Variant.isTrue(unknownFilter.calculate(ctx));
 						}
 						if (flag) {
-							//ȡʣkeyֶ,֯keys1
+							//读取剩余key字段,组织keys1
 							for (; f < valueOffset; f++) {
 								objs[f] = bufReaders[f].readObject();
 							}
@@ -2041,7 +2041,7 @@ public class JoinCursor extends ICursor {
 							}
 							break;
 						} else {
-							//
+							//跳过其余的
 							for (; f < colCount; f++) {
 								 bufReaders[f].skipObject();
 							}
@@ -2050,14 +2050,14 @@ public class JoinCursor extends ICursor {
 					
 					if (hasR) {
 						if (hasExps) {
-							//һȡ
+							//把这一组取完
 							while(Variant.compareArrays(keys2, keys1) == 0) {
-								//ȡʣֶ
+								//读取剩余字段
 								for (int f = valueOffset; f < colCount; f++) {
 									objs[f] = bufReaders[f].readObject();
 								}
-								tempTable.newLast(objs);//ӵʱ
-								//ȡһ
+								tempTable.newLast(objs);//添加到临时汇总
+								//取出下一条符合条件的
 								while (true) {
 									cur1++;
 									if (cur1 > len1) {
@@ -2070,10 +2070,10 @@ public class JoinCursor extends ICursor {
 											break EXIT;
 										}
 									}
-									//filter
+									//检查filter
 									boolean flag = true;
 									int f = 0;
-									//ȶȡfilter
+									//先读取filter列
 									for (; f < filterAllCount; f++) {
 										objs[f] = bufReaders[f].readObject();
 										flag = filters[f].match(objs[f]);
@@ -2086,14 +2086,14 @@ public class JoinCursor extends ICursor {
 										}
 									}
 									if (flag && unknownFilter != null) {
-										//ƥ,ҪunknownFilter
+										//都匹配,还要检查unknownFilter
 										for (; f < keyOffset; f++) {
 											objs[f] = bufReaders[f].readObject();
 										}
 										flag = Variant.isTrue(unknownFilter.calculate(ctx));
 									}
 									if (flag) {
-										//ȡʣkeyֶ,֯keys1
+										//读取剩余key字段,组织keys1
 										for (; f < valueOffset; f++) {
 											objs[f] = bufReaders[f].readObject();
 										}
@@ -2102,7 +2102,7 @@ public class JoinCursor extends ICursor {
 										}
 										break;
 									} else {
-										//
+										//跳过其余的
 										for (; f < colCount; f++) {
 											 bufReaders[f].skipObject();
 										}
@@ -2112,7 +2112,7 @@ public class JoinCursor extends ICursor {
 							calcExpsForNews(record, tempTable, record2, len);
 						}
 						
-						//cs
+						//按照cs对齐
 						cur2++;
 						if (cur2 > len2) {
 							cur2 = 1;
@@ -2131,11 +2131,11 @@ public class JoinCursor extends ICursor {
 						}
 					}
 				} else if (cmp > 0) {
-					//
+					//跳过其他
 					for (int f = valueOffset; f < colCount; f++) {
 						bufReaders[f].skipObject();
 					}
-					//ȡһ
+					//取出下一条符合条件的
 					while (true) {
 						cur1++;
 						if (cur1 > len1) {
@@ -2148,10 +2148,10 @@ public class JoinCursor extends ICursor {
 								break EXIT;
 							}
 						}
-						//filter
+						//检查filter
 						boolean flag = true;
 						int f = 0;
-						//ȶȡfilter
+						//先读取filter列
 						for (; f < filterAllCount; f++) {
 							objs[f] = bufReaders[f].readObject();
 							flag = filters[f].match(objs[f]);
@@ -2164,14 +2164,14 @@ public class JoinCursor extends ICursor {
 							}
 						}
 						if (flag && unknownFilter != null) {
-							//ƥ,ҪunknownFilter
+							//都匹配,还要检查unknownFilter
 							for (; f < keyOffset; f++) {
 								objs[f] = bufReaders[f].readObject();
 							}
 							flag = Variant.isTrue(unknownFilter.calculate(ctx));
 						}
 						if (flag) {
-							//ȡʣkeyֶ,֯keys1
+							//读取剩余key字段,组织keys1
 							for (; f < valueOffset; f++) {
 								objs[f] = bufReaders[f].readObject();
 							}
@@ -2180,7 +2180,7 @@ public class JoinCursor extends ICursor {
 							}
 							break;
 						} else {
-							//
+							//跳过其余的
 							for (; f < colCount; f++) {
 								 bufReaders[f].skipObject();
 							}
@@ -2233,9 +2233,9 @@ public class JoinCursor extends ICursor {
 	}
 	
 	/**
-	 * ¼Լͬݣʽ
+	 * 基于两个记录（以及同组数据）计算表达式
 	 * @param record
-	 * @param tempTable ͬһ
+	 * @param tempTable 主键相同的一组数据
 	 * @param r
 	 * @param len
 	 */
@@ -2366,8 +2366,8 @@ public class JoinCursor extends ICursor {
 	}
 	
 	/**
-	 * ж
-	 * @return trueûвдfalse
+	 * 判断组表类型
+	 * @return true，没有补区的列存组表；false，其它
 	 */
 	public static boolean isColTable(Object table) {
 		if (table == null) return false;
@@ -33,7 +33,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * T.new T.derive T.newsĽα (Tд桢вʱ)
+ * 用于T.new T.derive T.news的结果的游标 (T是行存、有补区、附表时)
  * @author runqian
  *
  */
@@ -43,7 +43,7 @@ public class JoinCursor2 extends ICursor {
 	private boolean isNews;
 	private DataStruct ds;
 	
-	private ICursor cursor1;//Tα
+	private ICursor cursor1;//T的游标
 	private Sequence cache1;
 	private ICursor cursor2;//A/cs
 	private Sequence cache2;
@@ -52,10 +52,10 @@ public class JoinCursor2 extends ICursor {
 	private int cur2 = -1;
 	
 	private int keyCount;
-	private int csFieldsCount;//A/csֶθ
-	private int []keyIndex2;//A/cs±
+	private int csFieldsCount;//A/cs的字段个数
+	private int []keyIndex2;//A/cs的主键下标
 	
-	private int []fieldIndex1;//Tȡֶε±
+	private int []fieldIndex1;//T取出字段的下标
 	
 	private boolean hasExps;//
 	private Node nodes[];
@@ -92,12 +92,12 @@ public class JoinCursor2 extends ICursor {
 		keyIndex2 = ds2.getPKIndex();
 		keyCount = keyIndex2.length;
 		
-		ArrayList<String> keyList = new ArrayList<String>();//ʱʹ
+		ArrayList<String> keyList = new ArrayList<String>();//临时使用
 		for (int i = 0; i < keyCount; i++) {
 			keyList.add(keyNames[i]);
 		}
 		
-		//ʽexps{}
+		//处理表达式，exps里可能有{……}
 		ArrayList<Expression> fetchExps = new ArrayList<Expression>();
 		for (int i = 0, len = exps.length; i < len; i++) {
 			Expression exp = exps[i];
@@ -116,7 +116,7 @@ public class JoinCursor2 extends ICursor {
 						fetchExps.add(exp);
 			} else {
 				hasExps = true;
-				isNews = false;//бʽʱnews
+				isNews = false;//有表达式时不能用news
 				if (home instanceof Moves) {
 					IParam fieldParam = ((Moves) exp.getHome()).getParam();
 					ParamInfo2 pi = ParamInfo2.parse(fieldParam, "cursor", false, false);
@@ -238,12 +238,12 @@ public class JoinCursor2 extends ICursor {
 		int []keyIndex2 = ds2.getPKIndex();
 		int keyCount = keyIndex2.length;
 		
-		ArrayList<String> keyList = new ArrayList<String>();//ʱʹ
+		ArrayList<String> keyList = new ArrayList<String>();//临时使用
 		for (int i = 0; i < keyCount; i++) {
 			keyList.add(keyNames[i]);
 		}
 		
-		//ʽexps{}
+		//处理表达式，exps里可能有{……}
 		ArrayList<Expression> fetchExps = new ArrayList<Expression>();
 		for (int i = 0, len = exps.length; i < len; i++) {
 			Expression exp = exps[i];
@@ -262,7 +262,7 @@ public class JoinCursor2 extends ICursor {
 						fetchExps.add(exp);
 			} else {
 				hasExps = true;
-				isNews = false;//бʽʱnews
+				isNews = false;//有表达式时不能用news
 				if (home instanceof Moves) {
 					IParam fieldParam = ((Moves) exp.getHome()).getParam();
 					ParamInfo2 pi = ParamInfo2.parse(fieldParam, "cursor", false, false);
@@ -317,7 +317,7 @@ public class JoinCursor2 extends ICursor {
 		if (table instanceof IPhyTable) {
 			Expression w = null;
 			if (filter != null) {
-				w = filter.newExpression(ctx); // ֶβжȡʱҪƱʽͬһʽֲ֧
+				w = filter.newExpression(ctx); // 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 			}
 			cursor1 = ((IPhyTable) table).cursor(null, allExpNames, w, null, null, null, cursor2, null, ctx);
 		}
@@ -537,7 +537,7 @@ public class JoinCursor2 extends ICursor {
 	}
 	
 	/**
-	 * бʽʱȡ
+	 * 有表达式时取数据
 	 * @param n
 	 * @return
 	 */
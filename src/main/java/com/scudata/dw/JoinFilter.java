@@ -17,7 +17,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * join (ֶ)
+ * join过滤器 (单字段)
  * @author LW
  *
  */
@@ -142,7 +142,7 @@ public class JoinFilter extends IFilter {
 	}
 	
 	public IArray calculateAnd(Context ctx, IArray leftResult) {
-		// isTrueصʱBollArrayֱ޸
+		// isTrue返回的是临时的BollArray，可以直接修改
 		BoolArray resultArray = leftResult.isTrue();
 		IArray key = right.calculateAll(ctx);
 		int[] pos = it.findAllPos(key, resultArray);
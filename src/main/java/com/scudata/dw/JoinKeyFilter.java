@@ -0,0 +1,220 @@
+package com.scudata.dw;
+
+import java.util.Date;
+
+import com.scudata.array.BoolArray;
+import com.scudata.array.IArray;
+import com.scudata.dm.BaseRecord;
+import com.scudata.dm.IntHashIndexTable;
+import com.scudata.dm.IndexTable;
+import com.scudata.dm.Sequence;
+import com.scudata.util.Variant;
+
+/**
+ * 由维表的键生成的运行时过滤信息，记录键的最小值、最大值和布隆过滤器
+ * 事实表按外键与维表做switch@i、join时，在读取列块和其它列之前排除不可能关联上的块和行
+ * 布隆过滤器的哈希值与列块过滤信息一致，只对键全是整数、长整数或串的维表建立
+ * @author RunQian
+ *
+ */
+class JoinKeyFilter {
+	private static final int BITS_PER_VALUE = 10; // 每个值占用的位数
+	private static final int HASH_COUNT = 3; // 每个值设置的位数
+	private static final int MIN_BITS = 64;
+	private static final int MIN_BLOOM_COUNT = 4096; // 键数不小于此值时才建布隆过滤器，键少时直接查索引更快
+
+	private static final int TYPE_NONE = 0; // 键的类型不一致，不能判断范围
+	private static final int TYPE_NUMBER = 1;
+	private static final int TYPE_STRING = 2;
+	private static final int TYPE_DATE = 3;
+
+	private int type; // 键的类型
+	private Object minKey; // 最小的键
+	private Object maxKey; // 最大的键
+	private long []bits; // 布隆过滤器的位数组，空表示没有建立
+	private int mask; // 位数减1
+
+	private JoinKeyFilter() {
+	}
+
+	/**
+	 * 用维表的键生成过滤信息，维表成员是记录时取单字段主键，否则取成员本身
+	 * @param code 维表
+	 * @param it 维表的索引，整数索引不建布隆过滤器
+	 * @return JoinKeyFilter 键不能生成过滤信息时返回空
+	 */
+	public static JoinKeyFilter create(Sequence code, IndexTable it) {
+		int len = code == null ? 0 : code.length();
+		if (len == 0) {
+			return null;
+		}
+
+		Object []keys = new Object[len];
+		int type = TYPE_NONE;
+		boolean canHash = true;
+		for (int i = 1; i <= len; ++i) {
+			Object obj = code.getMem(i);
+			if (obj instanceof BaseRecord) {
+				BaseRecord r = (BaseRecord)obj;
+				int []fields = r.dataStruct().getPKIndex();
+				if (fields == null || fields.length != 1) {
+					return null;
+				}
+
+				obj = r.getNormalFieldValue(fields[0]);
+			}
+
+			if (obj == null) {
+				return null;
+			}
+
+			int curType = getType(obj);
+			if (i == 1) {
+				type = curType;
+			} else if (type != curType) {
+				type = TYPE_NONE;
+			}
+
+			if (canHash && !BlockFilter.isHashable(obj)) {
+				canHash = false;
+			}
+
+			keys[i - 1] = obj;
+		}
+
+		JoinKeyFilter filter = new JoinKeyFilter();
+		if (type != TYPE_NONE) {
+			Object min = keys[0];
+			Object max = keys[0];
+			for (int i = 1; i < len; ++i) {
+				if (Variant.compare(keys[i], min, true) < 0) {
+					min = keys[i];
+				} else if (Variant.compare(keys[i], max, true) > 0) {
+					max = keys[i];
+				}
+			}
+
+			filter.type = type;
+			filter.minKey = min;
+			filter.maxKey = max;
+		}
+
+		if (canHash && len >= MIN_BLOOM_COUNT && !(it instanceof IntHashIndexTable)) {
+			filter.createBloom(keys);
+		} else if (type == TYPE_NONE) {
+			return null;
+		}
+
+		return filter;
+	}
+
+	private static int getType(Object obj) {
+		if (obj instanceof Number) {
+			return TYPE_NUMBER;
+		} else if (obj instanceof String) {
+			return TYPE_STRING;
+		} else if (obj instanceof Date) {
+			return TYPE_DATE;
+		} else {
+			return TYPE_NONE;
+		}
+	}
+
+	private void createBloom(Object []keys) {
+		int count = keys.length;
+		int bitCount = MIN_BITS;
+		while (bitCount < count * BITS_PER_VALUE && bitCount > 0) {
+			bitCount <<= 1;
+		}
+
+		if (bitCount <= 0) {
+			return;
+		}
+
+		long []bits = new long[bitCount >>> 6];
+		int mask = bitCount - 1;
+		for (Object key : keys) {
+			long h = BlockFilter.hash(key);
+			int h1 = (int)h;
+			int h2 = (int)(h >>> 32) | 1;
+			for (int k = 0; k < HASH_COUNT; ++k) {
+				int index = (h1 + k * h2) & mask;
+				bits[index >>> 6] |= 1L << index;
+			}
+		}
+
+		this.bits = bits;
+		this.mask = mask;
+	}
+
+	/**
+	 * 是否有布隆过滤器，没有时按行判断没有意义，范围只用于跳块
+	 * @return boolean
+	 */
+	public boolean hasBloom() {
+		return bits != null;
+	}
+
+	/**
+	 * 返回维表中是否可能有指定的键，只用布隆过滤器判断
+	 * 块内的行比较范围跟查索引的代价差不多，范围只在跳块时使用
+	 * @param value 键值
+	 * @return true：可能有，false：一定没有
+	 */
+	public boolean mayContain(Object value) {
+		long []bits = this.bits;
+		if (bits == null || !BlockFilter.isHashable(value)) {
+			return true;
+		}
+
+		long h = BlockFilter.hash(value);
+		int h1 = (int)h;
+		int h2 = (int)(h >>> 32) | 1;
+		int mask = this.mask;
+		for (int k = 0; k < HASH_COUNT; ++k) {
+			int index = (h1 + k * h2) & mask;
+			if ((bits[index >>> 6] & (1L << index)) == 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * 返回区间[minValue, maxValue]是否可能有维表中的键，用于按列块的最小值和最大值跳块
+	 * @param minValue 列块的最小值
+	 * @param maxValue 列块的最大值
+	 * @return true：可能有，false：一定没有
+	 */
+	public boolean mayIntersect(Object minValue, Object maxValue) {
+		int type = this.type;
+		if (type == TYPE_NONE) {
+			return true;
+		}
+
+		if (minValue != null && getType(minValue) == type && Variant.compare(minValue, maxKey, true) > 0) {
+			return false;
+		}
+
+		if (maxValue != null && getType(maxValue) == type && Variant.compare(maxValue, minKey, true) < 0) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * 把键数组中一定不在维表中的行在标志数组里设为false，之后只需对剩下的行查索引
+	 * @param keys 键值数组
+	 * @param signArray 标志数组，会被修改
+	 */
+	public void filter(IArray keys, BoolArray signArray) {
+		boolean []signs = signArray.getDatas();
+		for (int i = 1, len = keys.size(); i <= len; ++i) {
+			if (signs[i] && !mayContain(keys.get(i))) {
+				signs[i] = false;
+			}
+		}
+	}
+}
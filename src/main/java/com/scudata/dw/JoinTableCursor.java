@@ -26,38 +26,38 @@ import com.scudata.expression.operator.DotOperator;
 import com.scudata.resources.EngineMessage;
 
 /**
- * α
- * ȡʱܻõֶ
+ * 附表游标类
+ * 附表取数时可能会用到基表的字段
  * @author runqian
  *
  */
 public class JoinTableCursor extends IDWCursor{
-	ColPhyTable table;//
-	private int seqs[][];//ÿȡֶελ
+	ColPhyTable table;//本表
+	private int seqs[][];//每个表里取出字段的位置
 	
-	private TableCursor tableCursor[];//ȡα꣨ģ
+	private TableCursor tableCursor[];//取数游标（包含基表，附表的）
 
-	private RecordValSearcher []recSearchers;//һƥļ¼
+	private RecordValSearcher []recSearchers;//查找基表里匹配的记录
 	private DataStruct ds;
-	private String []sortedFields;//ֶ
+	private String []sortedFields;//有序字段
 	
-	private int startBlock; // 
-	private int endBlock; // 
+	private int startBlock; // 包含
+	private int endBlock; // 不包含
 	private int curBlock = 0;
 	private Sequence cache;
 	
-	// ֶͬʱҪһεһڱεĲ
+	// 同步分段时需要补上下一段第一块里属于本段的部分
 	private Sequence appendData;
 	private int appendIndex = 1;
 	
 	private boolean isClosed = false;
 	private boolean isSegment = false;
-	private boolean isFirstSkip = true;//ǷǵһSkip
+	private boolean isFirstSkip = true;//是否是第一次Skip
 	private boolean hasFilter = false;
 	
-	private Expression []exps;//ʽֶ
+	private Expression []exps;//表达式字段
 	private Record calcRec; 
-	private int seqs2[][];//Ҫȡбʽֶ
+	private int seqs2[][];//需要取出来进行表达式计算的字段
 	
 	public JoinTableCursor(DataStruct ds) {
 		this.ds = ds;
@@ -80,7 +80,7 @@ public class JoinTableCursor extends IDWCursor{
 	}
 
 	/**
-	 * һα
+	 * 返回一个附表游标
 	 * @param table
 	 * @return
 	 */
@@ -89,9 +89,9 @@ public class JoinTableCursor extends IDWCursor{
 	}
 	
 	/**
-	 * ظα
-	 * @param table 
-	 * @param fields ȡֶ
+	 * 返回附表游标
+	 * @param table 附表
+	 * @param fields 取出字段
 	 * @return
 	 */
 	public static ICursor createAnnexCursor(ColPhyTable table, String []fields) {
@@ -99,13 +99,13 @@ public class JoinTableCursor extends IDWCursor{
 	}
 	
 	/**
-	 * α
-	 * @param table 
-	 * @param fields ȡֶ
-	 * @param exp	˱ʽ
-	 * @param fkNames switchֶ
-	 * @param codes switch˵
-	 * @param ctx 
+	 * 附表游标
+	 * @param table 附表
+	 * @param fields 取出字段
+	 * @param exp	过滤表达式
+	 * @param fkNames switch过滤字段名
+	 * @param codes switch过滤的序列
+	 * @param ctx 上下文
 	 * @return
 	 */
 	public static ICursor createAnnexCursor(ColPhyTable table, String []fields, 
@@ -115,13 +115,13 @@ public class JoinTableCursor extends IDWCursor{
 	
 	/**
 	 * 
-	 * @param table 
-	 * @param exps ȡʽ
-	 * @param names ȡ
-	 * @param exp	˱ʽ
-	 * @param fkNames switchֶ
-	 * @param codes switch˵
-	 * @param ctx 
+	 * @param table 附表
+	 * @param exps 取出表达式
+	 * @param names 取出别名
+	 * @param exp	过滤表达式
+	 * @param fkNames switch过滤字段名
+	 * @param codes switch过滤的序列
+	 * @param ctx 上下文
 	 * @return
 	 */
 	public static ICursor createAnnexCursor(ColPhyTable table, Expression []exps, String []names, 
@@ -144,7 +144,7 @@ public class JoinTableCursor extends IDWCursor{
 		}
 		
 		if (fields == null && exps != null) {
-			//fieldsڣұʽexpsڣΪexpsȡ
+			//如果fields不存在，且表达式exps存在，则认为exps是取出
 			int colCount = exps.length;
 			fields = new String[colCount];
 			int cnt = 0;
@@ -177,7 +177,7 @@ public class JoinTableCursor extends IDWCursor{
 		IFilter [][]findFilterArrays = new IFilter[count][];
 		New newOp = null;
 		
-		//ȡʽfilter
+		//提取表达式的filter
 		if (exp != null) {
 			for (ColPhyTable t : tableList) {
 				Object obj = Cursor.parseFilter(t, exp, ctx);
@@ -210,7 +210,7 @@ public class JoinTableCursor extends IDWCursor{
 			Collections.sort(filterList);
 		}
 		
-		//K:T
+		//处理K:T
 		ArrayList<FindFilter> findFilterList = null;
 		boolean hasModify = table.getModifyRecords() != null || ptable.getModifyRecords() != null;
 		if (!hasModify && fkNames != null) {
@@ -248,7 +248,7 @@ public class JoinTableCursor extends IDWCursor{
 			}
 		}
 	
-		// ʽǷûѡֶΣ뵽ѡֶ
+		// 检查表达式里是否引用了没有选出的字段，如果引用了则加入到选出字段里
 		if (exp != null) {
 			ArrayList<String> nameList = new ArrayList<String>();
 			exp.getUsedFields(ctx, nameList);
@@ -295,11 +295,11 @@ public class JoinTableCursor extends IDWCursor{
 			}
 		}
 		
-		//ѡֶΪnullʱѡĬ
+		//如果选出字段为null时，选出默认
 		if (fields == null) {
 			String []pColNames = ptable.getSortedColNames();
 			String []colNames = table.getColNames();
-			//ֶ  + ֶ
+			//所有字段  + 主表所有字段
 			ArrayList<String> list = new ArrayList<String>();
 			for (String name : pColNames) {
 				list.add(name);
@@ -314,7 +314,7 @@ public class JoinTableCursor extends IDWCursor{
 			list.toArray(fields);	
 		}
 		
-		//ֶαʽ
+		//处理字段表达式
 		DataStruct expsDs = null;
 		ArrayList<String> expsList = null;
 		if (exps != null) {
@@ -347,7 +347,7 @@ public class JoinTableCursor extends IDWCursor{
 			}
 		}
 		
-		//ѡֶǷ񶼴
+		//检查选出字段是否都存在
 		for (String f : fields) {
 			if (f == null) continue;
 			if (-1 == table.getDataStruct().getFieldIndex(f))
@@ -362,14 +362,14 @@ public class JoinTableCursor extends IDWCursor{
 			}
 		}
 		
-		//fieldsListfilterListֵ
+		//接下来把fieldsList和filterList拆分到各个表
 		int tableCount = 0;
 		int []tableId = new int[count];
 		boolean hasFilter = false;
 		
 		for (int i = 0; i < count; ++i) {
 			PhyTable tb = tableList.get(i);
-			String []colNames = tb.getColNames();//ֻҪӱԼֶ
+			String []colNames = tb.getColNames();//这里只能要子表自己的字段
 			ArrayList<String> tempFieldsList = new ArrayList<String>();
 			ArrayList<IFilter> tempFilterList = new ArrayList<IFilter>();
 			ArrayList<IFilter> tempFindFilterList = new ArrayList<IFilter>();
@@ -395,7 +395,7 @@ public class JoinTableCursor extends IDWCursor{
 			
 			int size = tempFieldsList.size();
 			if (size > 0) {
-				//ֶҪȡ
+				//如果这个表里有字段要取
 				tableFields = new String[size];
 				tempFieldsList.toArray(tableFields);
 				fieldArrays[tableCount] = tableFields;
@@ -404,7 +404,7 @@ public class JoinTableCursor extends IDWCursor{
 			
 			size = tempFilterList.size();
 			if (size > 0) {
-				//filterҪ
+				//如果这个表里有filter要过滤
 				tableFilter = new IFilter[size];
 				tempFilterList.toArray(tableFilter);
 				filterArrays[i] = tableFilter;
@@ -413,7 +413,7 @@ public class JoinTableCursor extends IDWCursor{
 			
 			size = tempFindFilterList.size();
 			if (size > 0) {
-				//filterҪ
+				//如果这个表里有filter要过滤
 				tableFilter = new IFilter[size];
 				tempFindFilterList.toArray(tableFilter);
 				findFilterArrays[i] = tableFilter;
@@ -426,10 +426,10 @@ public class JoinTableCursor extends IDWCursor{
 		
 		if (tableCount == 1) {
 			if (tableId[0] != 0) {
-				//ҪȡҽӱصCursor
+				//要取的数据在且仅在子表，返回单表Cursor
 				return null;
 			} else {
-				//ҪȡݶڻҪӱͬ
+				//要取的数据都在基表，仍要跟子表同步
 				tableCount++;
 			}
 		}
@@ -442,7 +442,7 @@ public class JoinTableCursor extends IDWCursor{
 		int seqs2[][] = new int[tableCount][];
 		int c = 0;
 		
-		//ҪΪ̳УҪ޸!!
+		//如果要改为多表继承，需要修改这里!!
 		for (int i = 0; i < tableCount; ++i) {
 			String []fieldArray = fieldArrays[i];
 			if (fieldArray != null) {
@@ -461,7 +461,7 @@ public class JoinTableCursor extends IDWCursor{
 				}
 				c++;
 			} else {
-				//ӱȡʱֶζΪӱһȡֶΣȡ
+				//如果对子表取数时，字段都在主表，则为子表添加一个取数字段，便于取数
 				fieldArray = table.getColNames();
 				int size = fieldArray.length;
 				fieldArray = new String[]{fieldArray[size - 1]};
@@ -471,8 +471,8 @@ public class JoinTableCursor extends IDWCursor{
 			}
 		}
 		
-		//seqstableCursor[]jtc
-		//nodenull,ҲҪjtc
+		//设置seqs和tableCursor[]给jtc
+		//node不等于null,也要给jtc
 		cs.endBlock = tableList.get(0).getDataBlockCount();
 		cs.setSeqs(seqs);
 		cs.setTableCursor(tableCursor);
@@ -480,7 +480,7 @@ public class JoinTableCursor extends IDWCursor{
 			Select select = new Select(exp, null);
 			cs.addOperation(select, ctx);
 			
-			//ֶαʱ
+			//当条件里的字段被改名时
 			if (names != null) {
 				int nameLen = names.length;
 				Expression []newExps = new Expression[nameLen];
@@ -492,7 +492,7 @@ public class JoinTableCursor extends IDWCursor{
 			}
 		}
 		
-		//вʱαﴦK:T
+		//有补区时不在游标里处理K:T
 		if (!hasModify && fkNames != null) {
 			Switch op = new Switch(fkNames, codes, null, "i");
 			cs.addOperation(op, ctx);
@@ -520,7 +520,7 @@ public class JoinTableCursor extends IDWCursor{
 		
 		ds = cs.ds;
 		if (table.hasPrimaryKey()) {
-			// ѡݽṹ
+			// 如果附表有主键并且主键被选出则给数据结构设上主键
 			String []keys = table.getAllSortedColNames();
 			ArrayList<String> pkeyList = new ArrayList<String>();
 			ArrayList<String> sortedFieldList = new ArrayList<String>();
@@ -538,7 +538,7 @@ public class JoinTableCursor extends IDWCursor{
 			}
 			
 			if (sign) {
-				//
+				//有主键
 				int size = pkeyList.size();
 				String[] pkeys = new String[size];
 				pkeyList.toArray(pkeys);
@@ -546,7 +546,7 @@ public class JoinTableCursor extends IDWCursor{
 			}
 			int size = sortedFieldList.size();
 			if (size > 0) {
-				//ֶ
+				//有序字段
 				cs.sortedFields = new String[size];
 				sortedFieldList.toArray(cs.sortedFields);
 			}
@@ -574,7 +574,7 @@ public class JoinTableCursor extends IDWCursor{
 	}
 	
 	/**
-	 * ÷ֶϢ
+	 * 设置分段信息
 	 */
 	public void setSegment(int startBlock, int endBlock) {
 		isSegment = true;
@@ -592,14 +592,14 @@ public class JoinTableCursor extends IDWCursor{
 	}
 
 	/**
-	 * ֶͬʱҪһεһڱεĲ
+	 * 同步分段时需要补上下一段第一块里属于本段的部分
 	 */
 	public void setAppendData(Sequence seq) {
 		this.appendData = seq;
 	}
 	
 	protected Sequence get(int n) {
-		// ޸ֶͬΣֶͬʱֶεڿĳ¼ʹappendDataһҪӵļ¼
+		// 修改了同步分段，同步分段时如果分段点是在块中某条记录，则使用appendData存放最后一块需要添加的记录
 		isFirstSkip = false;
 		Sequence seq = getData(n);
 		if (appendData == null) {
@@ -710,7 +710,7 @@ public class JoinTableCursor extends IDWCursor{
 		while (curBlock < endBlock) {
 			curBlock++;
 
-			//бTableCursor,ÿȡһ
+			//遍历所有表TableCursor,每次取一块
 			boolean skip = false;
 			for (int c = 0; c < tableCount; ++c) {
 				if (skip) {
@@ -727,7 +727,7 @@ public class JoinTableCursor extends IDWCursor{
 			if (skip) {
 				continue;
 			}
-			//recordCountǸÿܹȡļ¼,Ҳһļ¼
+			//recordCount是该块能够取出的记录数,也就是最后一个表里读出来的记录数
 			RecordValSearcher primarySearcher = recSearchers[0];
 			RecordValSearcher subSearcher = recSearchers[tableCount - 1];
 			int recordCount = subSearcher.getRecordCount();
@@ -785,7 +785,7 @@ public class JoinTableCursor extends IDWCursor{
 					mems.add(r);
 				}
 			} else {
-				//FilterʱпܻûжӦ
+				//有Filter时，有可能会在主表里没有对应的
 				for (int i = 0; i < recordCount; ++i) {
 					Record r = new Record(ds);
 					long recNum = subSearcher.getRecNum();
@@ -948,7 +948,7 @@ public class JoinTableCursor extends IDWCursor{
 	}
 	
 	protected Sequence getStartBlockData(int n) {
-		// ֻȡһļ¼һûľͷ
+		// 只取第一块的记录，如果第一块没有满足条件的就返回
 		int startBlock = this.startBlock;
 		int endBlock = this.endBlock;
 		try {
@@ -1,11 +1,13 @@
 package com.scudata.dw;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import net.jpountz.lz4.LZ4Compressor;
 import net.jpountz.lz4.LZ4Factory;
 import net.jpountz.lz4.LZ4FastDecompressor;
 
 /**
- * LZ4ѹѹ
+ * LZ4压缩解压工具类
  * @author runqian
  *
  */
@@ -16,23 +18,84 @@ public class LZ4Util {
 		}
 	};
 	
-	//ѹ
+	//压缩
 	private LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
 	
-	//ѹ
+	//解压
 	private LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
 	
 	private int count;
 	
+	// 区块缓冲区的分配次数和分配的字节数，用于检查缓冲区重用的效果
+	private static AtomicLong allocCount = new AtomicLong();
+	private static AtomicLong allocBytes = new AtomicLong();
+	
 	private LZ4Util() {
 	}
 	
+	/**
+	 * 分配区块缓冲区，大小向上取到2的整数次幂，使缓冲区能被后面大小相近的区块重用
+	 * @param size 需要的大小
+	 * @return 字节数组
+	 */
+	public static byte[] allocate(int size) {
+		int capacity = Integer.highestOneBit(size);
+		if (capacity < size) {
+			capacity <<= 1;
+			if (capacity < 0) {
+				capacity = size;
+			}
+		}
+		
+		allocCount.incrementAndGet();
+		allocBytes.addAndGet(capacity);
+		return new byte[capacity];
+	}
+	
+	/**
+	 * 如果缓冲区容量不够则分配新的缓冲区，否则返回原缓冲区
+	 * @param buffer 原缓冲区，可以为空
+	 * @param size 需要的大小
+	 * @return 字节数组
+	 */
+	public static byte[] ensureCapacity(byte []buffer, int size) {
+		if (buffer == null || buffer.length < size) {
+			return allocate(size);
+		} else {
+			return buffer;
+		}
+	}
+	
+	/**
+	 * 返回区块缓冲区的分配次数
+	 * @return
+	 */
+	public static long getAllocCount() {
+		return allocCount.get();
+	}
+	
+	/**
+	 * 返回区块缓冲区分配的总字节数
+	 * @return
+	 */
+	public static long getAllocBytes() {
+		return allocBytes.get();
+	}
+	
+	/**
+	 * 清空缓冲区分配计数
+	 */
+	public static void resetAllocCounter() {
+		allocCount.set(0);
+		allocBytes.set(0);
+	}
+	
 	public static LZ4Util instance() {
 		return local.get();
 	}
 	
 	/**
-	 * ѹĳ
+	 * 返回压缩后的长度
 	 * @return
 	 */
 	public int getCount() {
@@ -40,20 +103,39 @@ public class LZ4Util {
 	}
 	
 	/**
-	 * ѹֽ飬ֽ鳤ȿܴʵʳȣҪgetCountȡʵʳ
+	 * 返回压缩后的字节数组，字节数组长度可能大于实际长度，需要调用getCount取的实际长度
 	 * @param bytes
 	 * @return
 	 */
 	public byte[] compress(byte []bytes) {
 		int maxLen = compressor.maxCompressedLength(bytes.length);
-		byte []buffer = new byte[maxLen];
+		byte []buffer = allocate(maxLen);
 		
 		count = compressor.compress(bytes, buffer);
 		return buffer;
 	}
 	
 	/**
-	 * ѹsrcCountΪѹ󳤶
+	 * 返回压缩后的最大可能长度
+	 * @param srcCount 压缩前长度
+	 * @return
+	 */
+	public int maxCompressedLength(int srcCount) {
+		return compressor.maxCompressedLength(srcCount);
+	}
+	
+	/**
+	 * 压缩到指定缓冲区，缓冲区长度不能小于maxCompressedLength
+	 * @param bytes 待压缩的数据
+	 * @param buffer 存放压缩结果的缓冲区
+	 * @return 压缩后的长度
+	 */
+	public int compress(byte []bytes, byte []buffer) {
+		return compressor.compress(bytes, 0, bytes.length, buffer, 0, buffer.length);
+	}
+	
+	/**
+	 * 解压，srcCount为解压后长度
 	 * @param bytes
 	 * @param buffer
 	 * @param srcCount
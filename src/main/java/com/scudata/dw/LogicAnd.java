@@ -6,7 +6,7 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.operator.And;
 
 /**
- * 
+ * 与计算过滤器类
  * @author runqian
  *
  */
@@ -43,6 +43,10 @@ public class LogicAnd extends IFilter {
 		return left.match(minValue, maxValue) && right.match(minValue, maxValue);
 	}
 	
+	public boolean match(Object minValue, Object maxValue, int block) {
+		return left.match(minValue, maxValue, block) && right.match(minValue, maxValue, block);
+	}
+	
 	public IArray calculateAll(Context ctx) {
 		IArray leftResult = left.calculateAll(ctx);
 		return right.calculateAnd(ctx, leftResult);
@@ -4,7 +4,7 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.operator.Or;
 
 /**
- * 
+ * 或计算过滤器类
  * @author runqian
  *
  */
@@ -33,6 +33,10 @@ public class LogicOr extends IFilter {
 		return left.match(minValue, maxValue) || right.match(minValue, maxValue);
 	}
 	
+	public boolean match(Object minValue, Object maxValue, int block) {
+		return left.match(minValue, maxValue, block) || right.match(minValue, maxValue, block);
+	}
+	
 	public void initExp() {
 		Or and = new Or();
 		and.setLeft(left.exp.getHome());
@@ -0,0 +1,111 @@
+package com.scudata.dw;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 用内存映射读组表区块，多个线程可以同时读，不需要对文件做同步
+ * 文件按窗口分段映射，窗口大小是区块大小的整数倍，所以区块不会跨窗口
+ * 区块超出已映射的范围时重新映射，文件还没有这么大时返回false由调用者按普通方式读
+ * @author WangXiaoJun
+ *
+ */
+class MappedBlockReader {
+	private static final int MAX_WINDOW_SIZE = 1024 * 1024 * 1024; // 映射窗口的最大大小
+
+	private FileChannel channel;
+	private final int windowSize; // 窗口大小，区块大小的整数倍
+	private volatile MappedByteBuffer []windows = new MappedByteBuffer[0]; // 已映射的窗口
+
+	/**
+	 * 构建内存映射读取器
+	 * @param channel 组表文件的通道
+	 * @param blockSize 区块大小
+	 */
+	public MappedBlockReader(FileChannel channel, int blockSize) {
+		this.channel = channel;
+		if (blockSize >= MAX_WINDOW_SIZE) {
+			windowSize = blockSize;
+		} else {
+			windowSize = MAX_WINDOW_SIZE / blockSize * blockSize;
+		}
+	}
+
+	/**
+	 * 取映射的文件通道
+	 * @return FileChannel
+	 */
+	public FileChannel getChannel() {
+		return channel;
+	}
+
+	/**
+	 * 读取一块数据
+	 * @param pos 位置
+	 * @param block 存放数据的数组
+	 * @return true：读取成功，false：不能用映射读取
+	 * @throws IOException
+	 */
+	public boolean read(long pos, byte []block) throws IOException {
+		long index = pos / windowSize;
+		int offset = (int)(pos - index * windowSize);
+		int len = block.length;
+		if (offset + len > windowSize || index > Integer.MAX_VALUE) {
+			return false;
+		}
+
+		MappedByteBuffer []windows = this.windows;
+		MappedByteBuffer window = index < windows.length ? windows[(int)index] : null;
+		if (window == null || window.capacity() < offset + len) {
+			window = map((int)index, offset + len);
+			if (window == null) {
+				return false;
+			}
+		}
+
+		// 不改变共享缓冲区的位置，复制一个视图来读
+		ByteBuffer buffer = window.duplicate();
+		buffer.position(offset);
+		buffer.get(block, 0, len);
+		return true;
+	}
+
+	// 映射指定窗口，窗口至少要有minSize字节
+	private synchronized MappedByteBuffer map(int index, int minSize) throws IOException {
+		MappedByteBuffer []windows = this.windows;
+		if (index < windows.length && windows[index] != null && windows[index].capacity() >= minSize) {
+			return windows[index];
+		}
+
+		long start = (long)index * windowSize;
+		long size = channel.size() - start;
+		if (size < minSize) {
+			return null;
+		} else if (size > windowSize) {
+			size = windowSize;
+		}
+
+		MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+		MappedByteBuffer []newWindows = windows;
+		if (index >= windows.length) {
+			newWindows = new MappedByteBuffer[index + 1];
+			System.arraycopy(windows, 0, newWindows, 0, windows.length);
+		} else {
+			newWindows = windows.clone();
+		}
+
+		newWindows[index] = window;
+		this.windows = newWindows;
+		return window;
+	}
+
+	/**
+	 * 释放映射的窗口，映射的内存在垃圾回收时释放
+	 */
+	public synchronized void close() {
+		windows = new MappedByteBuffer[0];
+		channel = null;
+	}
+}
@@ -45,6 +45,10 @@ public class MemberFilter extends FindFilter {
 		}
 	}
 	
+	protected Object[] getBlockFilterValues() {
+		return null;
+	}
+	
 	public boolean match(Object minValue, Object maxValue) {
 		int min;
 		int max;
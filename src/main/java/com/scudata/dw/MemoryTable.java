@@ -6,9 +6,12 @@ import com.scudata.array.IArray;
 import com.scudata.common.IntArrayList;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
+import com.scudata.dm.ArrayColumnIndexTable;
 import com.scudata.dm.BaseRecord;
 import com.scudata.dm.CompressIndexTable;
+import com.scudata.dm.ComputeStack;
 import com.scudata.dm.Context;
+import com.scudata.dm.Current;
 import com.scudata.dm.DataStruct;
 import com.scudata.dm.IndexTable;
 import com.scudata.dm.Record;
@@ -17,31 +20,34 @@ import com.scudata.dm.Table;
 import com.scudata.dm.cursor.ICursor;
 import com.scudata.dm.cursor.MemoryCursor;
 import com.scudata.dm.cursor.MultipathCursors;
+import com.scudata.dw.compress.ArrayColumnCursor;
+import com.scudata.dw.compress.ArrayColumnList;
 import com.scudata.dw.compress.ColumnList;
+import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ڱ
+ * 内表类
  * @author runqian
  *
  */
 public class MemoryTable extends Table {
 	private static final long serialVersionUID = 0x03310004;
 	
-	// зֲʽڽڵǷֲģûҪҪȽϽڵݵķΧǷغ
-	private String distribute; // ֲʽ
-	private int part = -1; // ķֱ
+	// 如果有分布表达式则数据在节点机间是分布的，如果没有则要求数据有序，需要比较节点机建数据的范围是否重合
+	private String distribute; // 分布表达式
+	private int part = -1; // 所属的分表
 	
-	private int []segmentFields; // ɶ·αʱڷֶεֶ
+	private int []segmentFields; // 生成多路游标时用于分段的字段
 	
 	/**
-	 * лʱʹ
+	 * 序列化时使用
 	 */
 	public MemoryTable() {}
 
 	/**
-	 * 
-	 * @param fields String[] еֶͨ
+	 * 创建
+	 * @param fields String[] 排列的普通字段
 	 * @return Table
 	 */
 	public MemoryTable(String []fields) {
@@ -66,8 +72,8 @@ public class MemoryTable extends Table {
 	}
 	
 	/**
-	 * ѹڴ
-	 * cursorļ¼ȥ
+	 * 创建压缩内存表
+	 * cursor里的记录都存进去
 	 * @param cursor
 	 */
 	public MemoryTable(ICursor cursor) {
@@ -81,8 +87,8 @@ public class MemoryTable extends Table {
 	}
 	
 	/**
-	 * ѹڴ
-	 * cursorȡn¼ȥ
+	 * 创建压缩内存表
+	 * cursor里取n条记录都存进去
 	 * @param cursor
 	 * @param n
 	 */
@@ -97,7 +103,28 @@ public class MemoryTable extends Table {
 	}
 
 	/**
-	 * Ƿѹѹʱ
+	 * 用列存数据创建内表，每个字段的值存成一个基本类型数组
+	 * @param mems 列存数据
+	 */
+	public MemoryTable(ArrayColumnList mems) {
+		this.mems = mems;
+		this.ds = mems.dataStruct();
+		if (ds == null) return;
+		int index[] = ds.getPKIndex();
+		if (index == null) return;
+		this.setIndexTable(new ArrayColumnIndexTable(mems, index, mems.size()));
+	}
+	
+	/**
+	 * 是否是列存表，列存表的字段值存在基本类型数组里，记录在访问时才产生
+	 * @return
+	 */
+	public boolean isColumnTable() {
+		return mems instanceof ArrayColumnList;
+	}
+	
+	/**
+	 * 是否是压缩表，压缩表创建索引时记主键和序号
 	 * @return
 	 */
 	public boolean isCompressTable() {
@@ -105,13 +132,13 @@ public class MemoryTable extends Table {
 	}
 	
 	/**
-	 * ׷
+	 * 追加
 	 * @param table
 	 */
 	public Sequence append(Sequence table) {
 		IArray addMems = table.getMems();
 
-		// ļ¼к
+		// 更改记录所属的排列和序号
 		DataStruct ds = this.ds;
 		for (int i = 1, addCount = addMems.size(); i <= addCount; ++i) {
 			Record r = (Record)addMems.get(i);
@@ -123,7 +150,7 @@ public class MemoryTable extends Table {
 	}
 	
 	/**
-	 * 
+	 * 更新
 	 * @param data
 	 * @param opt
 	 * @return
@@ -202,7 +229,7 @@ public class MemoryTable extends Table {
 			}
 		}
 		
-		// Ҫĵappend׷
+		// 需要在最后插入的调用append追加
 		IArray mems = this.mems;
 		for (int i = 1; i <= len; ++i) {
 			Record r = (Record)data.getMem(i);
@@ -237,7 +264,7 @@ public class MemoryTable extends Table {
 	}
 	
 	/**
-	 * ɾ
+	 * 删除
 	 */
 	public Sequence delete(Sequence data, String opt) {
 		if (data == null || data.length() == 0) {
@@ -282,7 +309,7 @@ public class MemoryTable extends Table {
 		}
 
 		if (keyCount == 1) {
-			// Ҫɾļ¼еλ
+			// 查找要删除的记录在排列中的位置
 			int ki = keyIndex[0];
 			for (int i = 1; i <= count; ++i) {
 				BaseRecord r = (BaseRecord)dataMems.get(i);
@@ -296,7 +323,7 @@ public class MemoryTable extends Table {
 				}
 			}
 		} else {
-			// Ҫɾļ¼еλ
+			// 查找要删除的记录在排列中的位置
 			int []srcPKIndex = this.ds.getPKIndex();
 			Object []keyValues = new Object[keyCount];
 			for (int i = 1; i <= count; ++i) {
@@ -330,7 +357,7 @@ public class MemoryTable extends Table {
 			index = tmp;
 		}
 
-		// 
+		// 对索引进行排序
 		Arrays.sort(index);
 		mems.remove(index);
 
@@ -344,7 +371,7 @@ public class MemoryTable extends Table {
 	}
 
 	/**
-	 * 
+	 * 查找
 	 */
 	public Object findByKey(Object key, boolean isSorted) {
 		IndexTable indexTable = getIndexTable();
@@ -353,7 +380,7 @@ public class MemoryTable extends Table {
 			return index > 0 ? mems.get(index) : null;
 		} else {
 			if (key instanceof Sequence) {
-				// keyӱļ¼B
+				// key可以是子表的记录，主键数多于B
 				if (length() == 0) {
 					return null;
 				}
@@ -393,15 +420,129 @@ public class MemoryTable extends Table {
 	}
 	
 	/**
-	 * ÷ֱʽ
-	 * @param exp ֱʽ
+	 * 取字段的值数组，列存表直接返回字段的数组
+	 * @param fieldName 字段名
+	 * @return IArray
+	 */
+	public IArray getFieldValueArray(String fieldName) {
+		if (mems instanceof ArrayColumnList) {
+			int f = ds.getFieldIndex(fieldName);
+			if (f < 0) {
+				MessageManager mm = EngineMessage.get();
+				throw new RQException(fieldName + mm.getMessage("ds.fieldNotExist"));
+			}
+			
+			return ((ArrayColumnList)mems).getColumn(f);
+		} else {
+			return super.getFieldValueArray(fieldName);
+		}
+	}
+	
+	/**
+	 * 取字段的值数组，列存表直接返回字段的数组
+	 * @param field 字段索引，从0开始计数
+	 * @return IArray
+	 */
+	public IArray getFieldValueArray(int field) {
+		if (mems instanceof ArrayColumnList) {
+			return ((ArrayColumnList)mems).getColumn(field);
+		} else {
+			return super.getFieldValueArray(field);
+		}
+	}
+	
+	/**
+	 * 取指定行列的值，列存表不产生记录
+	 * @param row 行号，从1开始计数
+	 * @param field 列号，从0开始计数
+	 * @return
+	 */
+	public Object getFieldValue(int row, int field) {
+		if (mems instanceof ArrayColumnList) {
+			return ((ArrayColumnList)mems).getColumn(field).get(row);
+		} else {
+			return super.getFieldValue(row, field);
+		}
+	}
+	
+	/**
+	 * 创建索引表，列存表用键列的数组建立索引
+	 */
+	public IndexTable newIndexTable(int capacity) {
+		IndexTable it = getIndexTable();
+		if (it != null) {
+			return it;
+		}
+		
+		int []index = ds == null ? null : ds.getPKIndex();
+		if (mems instanceof ArrayColumnList && index != null && ds.getTimeKeyCount() == 0) {
+			return new ArrayColumnIndexTable((ArrayColumnList)mems, index, capacity);
+		} else {
+			return super.newIndexTable(capacity);
+		}
+	}
+	
+	/**
+	 * 用指定字段创建索引表，列存表用键列的数组建立索引
+	 */
+	public IndexTable newIndexTable(int []fields, int capacity, String opt) {
+		if (mems instanceof ArrayColumnList && !ds.isSeqKey() && ds.getTimeKeyCount() == 0 && 
+				(opt == null || opt.indexOf('n') == -1)) {
+			return new ArrayColumnIndexTable((ArrayColumnList)mems, fields, capacity);
+		} else {
+			return super.newIndexTable(fields, capacity, opt);
+		}
+	}
+	
+	/**
+	 * 用字段表达式创建索引表，列存表的表达式是字段时用键列的数组建立索引
+	 */
+	public IndexTable newIndexTable(Expression exp, Context ctx, int capacity) {
+		if (exp != null && mems instanceof ArrayColumnList) {
+			int f = ds.getFieldIndex(exp.getIdentifierName());
+			if (f != -1) {
+				return new ArrayColumnIndexTable((ArrayColumnList)mems, new int[] {f}, capacity);
+			}
+		}
+		
+		return super.newIndexTable(exp, ctx, capacity);
+	}
+	
+	/**
+	 * 过滤，列存表没有选项时对整列计算条件，结果还是列存表
+	 */
+	public Object select(Expression exp, String opt, Context ctx) {
+		if (opt != null || exp == null || !(mems instanceof ArrayColumnList)) {
+			return super.select(exp, opt, ctx);
+		}
+		
+		ArrayColumnList mems = (ArrayColumnList)this.mems;
+		if (mems.size() == 0) {
+			return super.select(exp, opt, ctx);
+		}
+		
+		ComputeStack stack = ctx.getComputeStack();
+		stack.push(new Current(this));
+		IArray signArray;
+		try {
+			signArray = exp.calculateAll(ctx).isTrue();
+		} finally {
+			stack.pop();
+		}
+		
+		return new MemoryTable(mems.selectColumns(signArray));
+	}
+	
+	/**
+	 * 设置分表表达式
+	 * @param exp 分表表达式
 	 */
 	public void setDistribute(String exp) {
 		distribute = exp;
 	}
 	
 	/**
-	 * ȡֲʽ
+	 * 取分布表达式
 	 * @return
 	 */
 	public String getDistribute() {
@@ -409,15 +550,15 @@ public class MemoryTable extends Table {
 	}
 	
 	/**
-	 * ÷ֱ
-	 * @param part ֱ
+	 * 设置分表号
+	 * @param part 分表号
 	 */
 	public void setPart(int part) {
 		this.part = part;
 	}
 	
 	/**
-	 * ȡֱ
+	 * 取分表号
 	 * @return
 	 */
 	public int getPart() {
@@ -425,7 +566,7 @@ public class MemoryTable extends Table {
 	}
 	
 	/**
-	 * ÷ֶֶ
+	 * 设置分段字段
 	 * @param fields
 	 */
 	public void setSegmentFields(String []fields) {
@@ -443,14 +584,14 @@ public class MemoryTable extends Table {
 	}
 	
 	/**
-	 * õһֶΪֶֶ
+	 * 设置第一个字段为分段字段
 	 */
 	public void setSegmentField1() {
 		segmentFields = new int[] {0};
 	}
 	
 	/**
-	 * ȡֶֶ
+	 * 取分段字段索引
 	 * @return
 	 */
 	public int[] getSegmentFields() {
@@ -458,12 +599,28 @@ public class MemoryTable extends Table {
 	}
 	
 	/**
-	 * һεĿʼλ
-	 * @param i к
-	 * @param segmentFields ֶֶ
+	 * 返回下一段的开始位置
+	 * @param i 行号
+	 * @param segmentFields 分段字段
 	 * @return
 	 */
 	private int getSegmentEnd(int i, int []segmentFields) {
+		if (mems instanceof ArrayColumnList) {
+			// 列存表按列比较，不产生记录
+			ArrayColumnList mems = (ArrayColumnList)this.mems;
+			int len = mems.size();
+			for (int q = i + 1; q <= len; ++q) {
+				for (int f : segmentFields) {
+					IArray column = mems.getColumn(f);
+					if (!column.isEquals(q, column, i)) {
+						return q;
+					}
+				}
+			}
+			
+			return len + 1;
+		}
+		
 		BaseRecord r = (BaseRecord)getMem(i);
 		int len = length();
 		for (++i; i <= len; ++i) {
@@ -476,12 +633,25 @@ public class MemoryTable extends Table {
 		return len + 1;
 	}
 	
+	// 产生[start, end)区间的游标，列存表按列取数
+	private ICursor newCursor(int start, int end) {
+		if (mems instanceof ArrayColumnList) {
+			return new ArrayColumnCursor((ArrayColumnList)mems, start, end);
+		} else {
+			return new MemoryCursor(this, start, end);
+		}
+	}
+	
 	public ICursor cursor(int segSeq, int segCount, Context ctx) {
 		if (segCount <= 1) {
-			return new MemoryCursor(this);
+			if (mems instanceof ArrayColumnList) {
+				return newCursor(1, length() + 1);
+			} else {
+				return new MemoryCursor(this);
+			}
 		}
 
-		// ·α
+		// 产生多路游标
 		int len = length();
 		int blockSize = len / segCount;
 		int []segmentFields = this.segmentFields;
@@ -492,8 +662,8 @@ public class MemoryTable extends Table {
 			}
 			
 			ICursor []cursors = new ICursor[segCount];
-			int start = 1; // 
-			int end; // 
+			int start = 1; // 包含
+			int end; // 不包含
 			
 			if (segmentFields == null) {
 				for (int i = 1; i <= segCount; ++i) {
@@ -503,11 +673,11 @@ public class MemoryTable extends Table {
 						end = start + blockSize;
 					}
 					
-					cursors[i - 1] = new MemoryCursor(this, start, end);
+					cursors[i - 1] = newCursor(start, end);
 					start = end;
 				}
 			} else {
-				// зֶֶʱֵֶֶͬĲᱻα
+				// 有分段字段时，分段字段值相同的不会被拆到两个游标
 				for (int i = 1; i <= segCount; ++i) {
 					if (i == segCount) {
 						end = len + 1;
@@ -518,16 +688,16 @@ public class MemoryTable extends Table {
 						}
 					}
 					
-					cursors[i - 1] = new MemoryCursor(this, start, end);
+					cursors[i - 1] = newCursor(start, end);
 					start = end;
 				}
 			}
 			
 			return new MultipathCursors(cursors, ctx);
 		} else {
-			// ֶα
-			int start = 1; // 
-			int end; // 
+			// 产生分段游标
+			int start = 1; // 包含
+			int end; // 不包含
 			if (segSeq == segCount) {
 				start = blockSize * (segSeq - 1) + 1;
 				end = len + 1;
@@ -546,7 +716,7 @@ public class MemoryTable extends Table {
 				}
 			}
 			
-			return new MemoryCursor(this, start, end);
+			return newCursor(start, end);
 		}
 	}
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ import java.io.IOException;
 import com.scudata.dm.DataStruct;
 import com.scudata.dm.Record;
 /**
- * ļ¼
+ * 基表补区的记录类
  * @author runqian
  *
  */
@@ -14,21 +14,21 @@ public class ModifyRecord {
 	public static final int STATE_UPDATE = 0;
 	public static final int STATE_INSERT = 1;
 	
-	private long recordSeq; // ¼
-	private int state; // ״̬
-	private	Record record; // STATE_DELETE״̬
+	private long recordSeq; // 记录序号
+	private int state; // 状态
+	private	Record record; // 如果是STATE_DELETE状态则空
 	
-	private long parentRecordSeq = 0; // Ӧ¼ţֵʱʾ¼ţû
+	private long parentRecordSeq = 0; // 对应的主表记录号，负值时表示主表补区记录号；对于主表没意义
 	private int block;
 
-	// л
+	// 仅供序列化
 	public ModifyRecord() {
 	}
 	
 	/**
 	 * 
-	 * @param recordSeq Ӧļ¼ţαţ
-	 * @param state ״̬
+	 * @param recordSeq 对应的记录号（伪号）
+	 * @param state 状态
 	 * @param record
 	 */
 	public ModifyRecord(long recordSeq, int state, Record record) {
@@ -38,7 +38,7 @@ public class ModifyRecord {
 	}
 
 	/**
-	 * ½һɾ״̬ļ¼
+	 * 新建一个删除状态的记录
 	 * @param recordSeq
 	 */
 	public ModifyRecord(long recordSeq) {
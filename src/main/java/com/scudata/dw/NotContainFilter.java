@@ -7,8 +7,8 @@ import com.scudata.thread.MultithreadUtil;
 import com.scudata.util.Variant;
 
 /**
- * 
- * ContainFilter߼෴жһǷ񲻰ڸ
+ * 不包含过滤器类
+ * 与ContainFilter的逻辑相反，用于判断一个对象是否不包含在给定的序列里
  * @author runqian
  *
  */
@@ -37,7 +37,7 @@ public class NotContainFilter extends IFilter {
 		Object []values = this.values;
 		int len = values.length;
 		if (len > ContainFilter.BINARYSEARCH_COUNT) {
-			// ַ
+			// 二分法查找
 			int low = 0;
 			int high = len - 1;
 
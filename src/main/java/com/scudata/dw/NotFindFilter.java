@@ -55,6 +55,10 @@ public class NotFindFilter extends FindFilter {
 		return it.find(value) == null;
 	}
 	
+	protected Object[] getBlockFilterValues() {
+		return null;
+	}
+	
 	public boolean match(Object minValue, Object maxValue) {
 		if (Variant.isEquals(minValue, maxValue)) {
 			return it.find(minValue) == null;
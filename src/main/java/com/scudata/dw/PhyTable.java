@@ -43,45 +43,45 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ֶԪ
- * ע⣺blobֶλֶַڴ
+ * 字段元数据
+ * 注意：blob字段或长字符串字段容易造成内存溢出
  * @author runqian
  *
  */
 abstract public class PhyTable implements IPhyTable {
-	protected static String KEY_PREFIX = "#"; // ֶǰ׺
+	protected static String KEY_PREFIX = "#"; // 主键字段前缀
 	
-	protected static int MIN_BLOCK_RECORD_COUNT = 8192; // ÿС¼ֵͬĲϲ
-	protected static int MAX_BLOCK_RECORD_COUNT = 8192 * 20; // ÿ¼ֵͬĳɶ
+	protected static int MIN_BLOCK_RECORD_COUNT = 8192; // 每块的最小记录数，如果同值的不足则合并多组
+	protected static int MAX_BLOCK_RECORD_COUNT = 8192 * 20; // 每块的最大记录数，如果同值的超了则拆成多块
 	
-	protected byte []reserve = new byte[32]; // λֽ1Ű汾
+	protected byte []reserve = new byte[32]; // 保留位，字节1存放版本号
 	protected ComTable groupTable;
 	protected PhyTable parent;
-	protected ArrayList<PhyTable> tableList; // б
-	protected String segmentCol; // ֶ
+	protected ArrayList<PhyTable> tableList; // 附表列表
+	protected String segmentCol; // 分段列
 	protected int segmentSerialLen;
 	
 	protected String tableName;
-	protected String []colNames; // #ͷʾάа#ȥ
-	protected String []allColNames;//
+	protected String []colNames; // 以#开头表示维，名字中把#去掉
+	protected String []allColNames;//含主表的主键
 	protected int dataBlockCount;
 	protected long totalRecordCount;
 	
-	protected BlockLink segmentBlockLink; // ֶϢμ¼ÿпļ¼
-	protected byte curModifyBlock;// ǰ
-	protected BlockLink modifyBlockLink1; //  1
-	protected BlockLink modifyBlockLink2; //  2
+	protected BlockLink segmentBlockLink; // 分段信息区块链，依次记录每个列块的记录数
+	protected byte curModifyBlock;//补块 当前
+	protected BlockLink modifyBlockLink1; // 补块 1
+	protected BlockLink modifyBlockLink2; // 补块 2
 	
-	protected Object []maxValues; // ׷ӵļ¼άֵֶȷǷΨһж
-	protected boolean hasPrimaryKey = true;// Ƿ׷ݵʱҪжάֵǷΨһΨһ
-	public boolean isSorted = true; // Ƿ򣬿ܲΨһ
+	protected Object []maxValues; // 最后追加的记录的维字段值，用于确定是否有序和唯一，如果无序则不再判断
+	protected boolean hasPrimaryKey = true;// 是否有主键，追加数据的时候需要判断维值是否唯一，如果唯一则必有序
+	public boolean isSorted = true; // 是否有序，可能不唯一但有序
 	
 	//index
 	protected String []indexNames;
 	protected String [][]indexFields;
 	protected String [][]indexValueFields;
 	
-	//Ԥcuboid
+	//预分组cuboid
 	protected String []cuboids;
 	
 	protected transient DataStruct ds;
@@ -91,14 +91,14 @@ abstract public class PhyTable implements IPhyTable {
 	private transient HashMap<String, SoftReference<ITableIndex>> cache = 
 			new HashMap<String, SoftReference<ITableIndex>>();
 	
-	protected Sequence appendCache;//׷ӻ
+	protected Sequence appendCache;//追加缓存
 	
-	//жǷǻ
+	//判断是否是基表
 	public boolean isBaseTable() {
 		return parent == null;
 	}
 	
-	// жǷֻһûи
+	// 判断组表是否只包含了一个表，即没有附表
 	public boolean isSingleTable() {
 		return parent == null && (tableList == null || tableList.size() == 0);
 	}
@@ -208,15 +208,15 @@ abstract public class PhyTable implements IPhyTable {
 	}
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取字段名数组
+	 * @return 字段名数组
 	 */
 	public String[] getColNames() {
 		return colNames;
 	}
 	
 	/**
-	 * ȡֶָεֶ
+	 * 取指定字段的字段名
 	 * @param col
 	 * @return
 	 */
@@ -242,7 +242,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * Ҫֶѡһʵ֣ûкʵ򷵻ؿ
+	 * 根据要处理的字段选择一个合适的索引的名字，没有合适的则返回空
 	 * @param fieldNames
 	 * @return
 	 */
@@ -271,7 +271,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * ɾ,indexNameΪnullʾɾ
+	 * 删除索引,如果indexName为null，表示删除所有
 	 */
 	public boolean deleteIndex(String indexName) throws IOException {
 		getGroupTable().checkWritable();
@@ -334,10 +334,10 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * һ
-	 * @param indexName 
-	 * @param indexFields ֶ
-	 * @param indexValueFields ֵֶΣKVУ
+	 * 添加一个索引
+	 * @param indexName 索引名称
+	 * @param indexFields 索引字段
+	 * @param indexValueFields 值字段（KV索引才有）
 	 * @throws IOException
 	 */
 	public void addIndex(String indexName, String[] indexFields, String[] indexValueFields) throws IOException {
@@ -368,7 +368,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * 
+	 * 更新索引
 	 */
 	public void updateIndex() {
 		if (indexNames == null) {
@@ -389,7 +389,7 @@ abstract public class PhyTable implements IPhyTable {
 				throw new RQException(e.getMessage(), e);
 			}
 			
-			//inameõֶ
+			//根据iname得到索引字段
 			String []ifields = indexFields[i];
 			String []vfields = indexValueFields[i];
 
@@ -423,7 +423,7 @@ abstract public class PhyTable implements IPhyTable {
 
 		if (obj == null) {
 			if  (opt != null) {
-				//ȫ
+				//全文
 				if  (opt.indexOf('w') != -1) {
 					TableFulltextIndex index = new TableFulltextIndex(this, I);
 					index.create(fields, opt, ctx, w);
@@ -451,7 +451,7 @@ abstract public class PhyTable implements IPhyTable {
 				return;
 			}
 			
-			//
+			//排序
 			PhyTableIndex index = new PhyTableIndex(this, I);
 			index.create(fields, opt, ctx, w);
 		} else if (obj instanceof String[]) {
@@ -466,7 +466,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * ؽ
+	 * 重建索引
 	 * @param ctx
 	 */
 	public void resetIndex(Context ctx) {
@@ -509,7 +509,7 @@ abstract public class PhyTable implements IPhyTable {
 	abstract public String[] getAllSortedColNames();
 	
 	/**
-	 * õάеλ
+	 * 得到维列的位置
 	 * @return
 	 */
 	public int[] getSortedColIndex() {
@@ -531,13 +531,13 @@ abstract public class PhyTable implements IPhyTable {
 		return tableName.equals(name);
 	}
 	
-	//¼ļ¼
+	//记录总数（不含补区的记录）
 	public long getTotalRecordCount() {
 		return totalRecordCount;
 	}
 	
 	/**
-	 * ȡʵܼ¼˲ļ¼
+	 * 取实际总记录数（加上了补区的记录）
 	 * @return
 	 */
 	public long getActualRecordCount() {
@@ -557,7 +557,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * ܿ
+	 * 总块数
 	 * @return
 	 */
 	public int getDataBlockCount() {
@@ -565,7 +565,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * άֶεĸ
+	 * 维字段的个数
 	 * @return
 	 */
 	public int getAllSortedColNamesLength() {
@@ -578,7 +578,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * Ƿ
+	 * 是否有主键
 	 * @return
 	 */
 	public boolean hasPrimaryKey() {
@@ -598,23 +598,23 @@ abstract public class PhyTable implements IPhyTable {
 		return reader;
 	}
 	
- 	// ׼д׷ӡɾ޸ǰ
+ 	// 准备写，追加、删除、修改数据前调用
 	abstract protected void prepareAppend() throws IOException;
 	
-	// д
+	// 结束写
 	abstract protected void finishAppend() throws IOException;
 	
 	public abstract void readExternal(BufferReader reader) throws IOException;
 	
 	public abstract void writeExternal(BufferWriter writer) throws IOException;
 	
-	//д뻺
+	//写入缓存的数据
 	public abstract void appendCache() throws IOException;
 	
 	public abstract int[] getSerialBytesLen();
 	
 	/**
-	 * д
+	 * 写补区
 	 * @throws IOException
 	 */
 	protected void saveModifyRecords() throws IOException {
@@ -629,7 +629,7 @@ abstract public class PhyTable implements IPhyTable {
 			r.writeExternal(writer);
 		}
 		
-		// дʱ֧ͬͬʱд
+		// 读写补块时做同步以支持同时读写
 		Object syncObj = groupTable.getSyncObject();
 		synchronized(syncObj) {
 			BlockLink modifyBlockLink = null;
@@ -651,7 +651,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * 
+	 * 读补区
 	 * @return
 	 */
 	public ArrayList<ModifyRecord> getModifyRecords() {
@@ -667,7 +667,7 @@ abstract public class PhyTable implements IPhyTable {
 		}
 
 		try {
-			// дʱ֧ͬͬʱд
+			// 读写补块时做同步以支持同时读写
 			byte []bytes;
 			Object syncObj = groupTable.getSyncObject();
 			synchronized(syncObj) {
@@ -708,7 +708,7 @@ abstract public class PhyTable implements IPhyTable {
 	abstract public Sequence delete(Sequence data, String opt) throws IOException;
 	
 	/**
-	 * ñʽexp漰ֶ
+	 * 获得表达式exp中涉及的所有字段
 	 * @param exp
 	 * @param colNames
 	 * @return
@@ -728,7 +728,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 
 	/**
-	 * ȡexpҪֶ(k.sbs() k1+k2)
+	 * 提取exp里需要计算的字段(k.sbs() k1+k2)
 	 * @param exps
 	 * @return
 	 */
@@ -820,7 +820,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * nodeֶkeyNamesеindex
+	 * 获得node的字段在keyNames中的index
 	 * @param node
 	 * @param keyNames
 	 * @return
@@ -848,7 +848,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * Ӳȡ¼ҹ
+	 * 从补区取记录并且过滤
 	 * @param exp
 	 * @param ctx
 	 * @return
@@ -862,14 +862,14 @@ abstract public class PhyTable implements IPhyTable {
 		for (int i = 0; i < size; i++) {
 			ModifyRecord mr = modifyRecords.get(i);
 			if (mr.isDelete()) {
-				mrs.add(mr);//deleteĿ϶Ҫ
+				mrs.add(mr);//delete的肯定要
 			} else if (exp != null) {
 				Record sr = mr.getRecord();
 				if (Variant.isTrue(sr.calc(exp, ctx))) {
-					mrs.add(mr);//updateinsertҪ
+					mrs.add(mr);//符合条件的update和insert都要
 				} else {
 					if (mr.isUpdate()) {
-						//updateҪdelete
+						//不符合条件的update要变成delete
 						ModifyRecord temp = new ModifyRecord(mr.getRecordSeq());
 						temp.setDelete();
 						mrs.add(temp);
@@ -888,7 +888,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * ǷάֶΣ򷵻α(ַ)ķΧ
+	 * 检查是否是维字段，如果是则返回伪号(地址)的范围
 	 * @param field
 	 * @param node
 	 * @param ctx
@@ -897,10 +897,10 @@ abstract public class PhyTable implements IPhyTable {
 	abstract long[] checkDim(String field, Node node, Context ctx);
 	
 	/**
-	 * ʽǷ
-	 * @param home ʽhomeڵ
-	 * @param indexs ÿһһҵڶǱʽڵ
-	 * @param intervals ʾַΧ
+	 * 检查表达式是否由与计算组成
+	 * @param home 表达式home节点
+	 * @param indexs 输出，每两个连续对象是一组输出，第一个对象是找到的索引，第二个是表达式节点
+	 * @param intervals 输出，表示地址范围
 	 * @param ctx
 	 */
 	private void checkAnds(Node home, ArrayList<Object> indexs, ArrayList<Long> intervals, Context ctx) {
@@ -950,7 +950,7 @@ abstract public class PhyTable implements IPhyTable {
 			if (fields == null) return;
 			String indexName = chooseIndex(fields);
 			if (indexName == null) {
-				//ֶΣǷάֶ
+				//如果不是索引字段，则检查是否是维字段
 				long[] posArray = checkDim(fields[0], home, ctx);
 				if (posArray != null) {
 					for (long pos : posArray) {
@@ -965,17 +965,17 @@ abstract public class PhyTable implements IPhyTable {
 			FileObject indexFile = new FileObject(dir + getTableName() + "_" + indexName);
 			ITableIndex index = getTableMetaDataIndex(indexFile, indexName, true);
 			if (index instanceof TableKeyValueIndex) {
-				//F
+				//带F的索引不行
 				return;
 			}
 			if (index instanceof TableHashIndex) {
-				//hashֻŻںcontain
+				//hash索引只能优化等于和contain
 				if (!(home instanceof Equals) && !(home instanceof DotOperator)) {
 					return;
 				}
 			}
 			if (index instanceof TableFulltextIndex) {
-				//ȫֻܴlike *X* ģѯ
+				//全文索引只能处理like *X* 模糊查询
 				IParam sub2 = ((Like) home).getParam().getSub(1);
 				String fmtExp = (String) sub2.getLeafExpression().calculate(null);
 				if (fmtExp.length() <= 2) {
@@ -992,7 +992,7 @@ abstract public class PhyTable implements IPhyTable {
 					return;
 				}
 			}
-			//ϲͬ
+			//合并相同的
 			if (home instanceof Equals ||
 					home instanceof NotSmaller ||
 					home instanceof Greater ||
@@ -1021,7 +1021,7 @@ abstract public class PhyTable implements IPhyTable {
 			return a;
 		}
 		
-		//תΪ
+		//转化为数组进行排序
 		int intervalSize = intervals.size();
 		Long[] intervalArray = new Long[intervalSize];
 		intervals.toArray(intervalArray);
@@ -1100,7 +1100,7 @@ abstract public class PhyTable implements IPhyTable {
 	
 	static LongArray longArrayUnite(LongArray a, long []b, int posCount, boolean sort) {
 		int lenB = b.length;
-		posCount += 1;//һαų
+		posCount += 1;//还有一个伪号长度
 		if (sort) {
 			int size = lenB / posCount;
 			long [][]posArr = new long[size][];
@@ -1154,9 +1154,9 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * Щαռ˼block
-	 * @param recNums	α
-	 * @param recCountOfSegment ÿblockα
+	 * 获得这些伪号占用了几个block
+	 * @param recNums	伪号数组
+	 * @param recCountOfSegment 每个block的伪号数量
 	 * @return
 	 */
 	public static int getBlockCount(LongArray recNums, long []recCountOfSegment) {
@@ -1189,7 +1189,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * ѯicursor
+	 * 索引查询函数icursor的入口
 	 */
 	public ICursor icursor(String []fields, Expression filter, String iname, String opt, Context ctx) {
 		ComTable groupTable = getGroupTable();
@@ -1234,18 +1234,18 @@ abstract public class PhyTable implements IPhyTable {
 	private ICursor icursor_(String []fields, Expression filter, String iname, String opt, Context ctx) {
 		FileObject indexFile = null;
 		
-		//ǷANDŻ
+		//检查是否可以做连续AND优化
 		if (filter.getHome() instanceof And) {
 			ArrayList<Object> indexs = new ArrayList<Object>();
 			ArrayList<Long> intervals = new ArrayList<Long>();
 			checkAnds(filter.getHome(), indexs, intervals, ctx);
 			int intervalSize = intervals.size();
 			if (intervalSize > 0 && intervalSize / 2 <= ITableIndex.MIN_ICURSOR_BLOCK_COUNT) {
-				//ά˵ĽѾ
+				//如果维过滤的结果块数已经很少了
 				return cursor(fields, filter, ctx);
 			}
 			if (intervalSize == dataBlockCount * 2) {
-				//ά˵Ľÿ鶼,û
+				//如果维过滤的结果每块都命中了,则没有意义
 				intervals.clear();
 				intervalSize = 0;
 			}
@@ -1257,10 +1257,10 @@ abstract public class PhyTable implements IPhyTable {
 				Object []indexArray = new Object[size];
 				
 				if (opt != null && opt.indexOf('u') != -1) {
-					//ȼ
+					//不排序优先级
 					indexs.toArray(indexArray);
 				} else {
-					//indexҪȼ
+					//index要按照优先级排序
 					int j = 0;
 					i = 0;
 					while (j < size) {
@@ -1335,9 +1335,9 @@ abstract public class PhyTable implements IPhyTable {
 					
 
 					if (intervalSize > 0) {
-						//ά˵Ľ
+						//利用维过滤的结果
 						tempPos = longArrayUnite(tempPos, intervals);
-						intervalSize = 0;//ֻ1
+						intervalSize = 0;//只进来1次
 						if (isRow) {
 							if (tempPos.size() <= ITableIndex.MIN_ICURSOR_REC_COUNT) {
 								break;
@@ -1402,7 +1402,7 @@ abstract public class PhyTable implements IPhyTable {
 			}
 			String indexName = chooseIndex(indexFields);
 			if (indexFields == null || indexName == null) {
-				//filterвκֶ or 
+				//filter中不包含任何字段 or 索引不存在
 				MessageManager mm = EngineMessage.get();
 				throw new RQException("icursor" + mm.getMessage("function.invalidParam"));
 			}
@@ -1428,10 +1428,10 @@ abstract public class PhyTable implements IPhyTable {
 	}
 
 	/**
-	 * ȡʵ
-	 * @param indexFile ļ
-	 * @param iname 
-	 * @param isRead Ƕд
+	 * 取得索引实例
+	 * @param indexFile 索引文件
+	 * @param iname 索引名
+	 * @param isRead 是读操作，还是写操作
 	 * @return
 	 */
 	public synchronized ITableIndex getTableMetaDataIndex(FileObject indexFile, String iname, boolean isRead) {
@@ -1457,7 +1457,7 @@ abstract public class PhyTable implements IPhyTable {
 					} else {
 						ti = new TableKeyValueIndex(this, indexFile);
 					}
-					//inameõֶ
+					//根据iname得到索引字段
 					String []ifields = null;
 					String []vfields = null;
 					for (int i = 0; i < indexNames.length; i++) {
@@ -1477,14 +1477,14 @@ abstract public class PhyTable implements IPhyTable {
 			
 			return ti;
 		} else {
-			// ޸ļɾ
+			// 修改索引文件删除缓存
 			cache.remove(name);
 			return null;
 		}
 	}
 	
 	/**
-	 * Ƿӱ
+	 * 是否存在这个子表
 	 * @param tableName
 	 * @return
 	 */
@@ -1522,7 +1522,7 @@ abstract public class PhyTable implements IPhyTable {
 
 	public void rename(String[] srcFields, String[] newFields, Context ctx) throws IOException {
 		getGroupTable().checkWritable();
-		//µǷظ
+		//检查新的名字里是否有重复的
 		ArrayList<String> list = new ArrayList<String>();
 		for (String str : newFields) {
 			if (str != null) {
@@ -1535,7 +1535,7 @@ abstract public class PhyTable implements IPhyTable {
 			}
 		}
 		
-		//Ҫ޸ĵǷ
+		//检查要修改的名字是否存在
 		NEXT:
 		for (String name : srcFields) {
 			for (String col : colNames) {
@@ -1559,7 +1559,7 @@ abstract public class PhyTable implements IPhyTable {
 			}
 		}
 		
-		//ֲֶܵ
+		//新名字不能等于字段名、索引名
 		for (String newField : newFields) {
 			for (String name : colNames) {
 				if (newField.equals(name)) {
@@ -1617,7 +1617,7 @@ abstract public class PhyTable implements IPhyTable {
 				String name = indexNames[i];
 				for (int j = 0; j < len; j++) {
 					if (name.equals(srcFields[j])) {
-						//޸ļ
+						//修改索引文件名
 						FileObject tmpFile = new FileObject(dir + tableName + "_" + name);
 						tmpFile.move(dir + tableName + "_" + newFields[j], null);
 						indexNames[i] = newFields[j];
@@ -1635,7 +1635,7 @@ abstract public class PhyTable implements IPhyTable {
 		}
 	}
 	
-	// ȡֲʽ
+	// 取分布表达式串
 	public String getDistribute() {
 		return groupTable.getDistribute();
 	}
@@ -1658,7 +1658,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * ɾCuboid
+	 * 删除Cuboid
 	 * @param cuboid
 	 * @return
 	 * @throws IOException
@@ -1715,7 +1715,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * Cuboid
+	 * 更新Cuboid
 	 */
 	public void updateCuboids() {
 		if (cuboids == null) return;
@@ -1743,7 +1743,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * ؽCuboid
+	 * 重建Cuboid
 	 * @param ctx
 	 */
 	public void resetCuboid(Context ctx) {
@@ -1764,7 +1764,7 @@ abstract public class PhyTable implements IPhyTable {
 				newFileObj = new FileObject(newFileObj.createTempFile(file.getName()));
 				newFile = newFileObj.getLocalFile().file();
 				
-				table = new Cuboid(file, groupTable.ctx);//cuboid
+				table = new Cuboid(file, groupTable.ctx);//打开这个cuboid
 				table.checkPassword("cuboid");
 				newTable = new Cuboid(newFile, 0, table);
 				newTable.checkPassword("cuboid");
@@ -1788,7 +1788,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * ϲα꣬ʱҪ鲢
+	 * 合并游标，有序时要归并
 	 * @param cs
 	 * @param cs2
 	 * @return
@@ -1810,7 +1810,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * ֶͬε·αϳһ·α
+	 * 同步分段的两个多路游标合成一个多路游标
 	 * @param cs1
 	 * @param cs2
 	 * @param sortFields
@@ -1877,9 +1877,9 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * ȡmcsķֶֶ
+	 * 获取mcs的分段字段
 	 * @param mcs
-	 * @param hashK trueȡkeyֶΣfalseȡ1ֶ
+	 * @param hashK true取key字段，false取有序1字段
 	 * @return
 	 */
 	public static String[] getSegmentFields(MultipathCursors mcs, boolean hasK) {
@@ -1903,7 +1903,7 @@ abstract public class PhyTable implements IPhyTable {
 		
 		String []dimFields;
 		if (hasK) {
-			//kʱmcsĵһάֶ
+			//有k时返回mcs的第一个维字段
 			dimFields = dwCursor.getSortFields();//dwCursor.getTableMetaData().getAllSortedColNames();
 			if (dimFields == null) {
 				MessageManager mm = EngineMessage.get();
@@ -1953,7 +1953,7 @@ abstract public class PhyTable implements IPhyTable {
 	}
 	
 	/**
-	 * srcĽṹ
+	 * 复制src表的索引的结构
 	 * @param src
 	 */
 	public void dupIndexAdnCuboid(PhyTable src) {
@@ -23,7 +23,7 @@ import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ļ
+ * 文件组
  * @author runqian
  *
  */
@@ -84,7 +84,7 @@ public class PhyTableGroup implements IPhyTable {
 	}
 	
 	/**
-	 * xѡʱ׷ӣαݶӦ
+	 * 带x选项时的数据追加，游标里的数据对应多个分区
 	 * @param cursor
 	 * @param opt
 	 * @throws IOException
@@ -109,7 +109,7 @@ public class PhyTableGroup implements IPhyTable {
 		}
 		
 		ArrayList<BFileWriter>tmpFiles = new ArrayList<BFileWriter>();
-		tmpFiles.add(null); // 0λñ1List1
+		tmpFiles.add(null); // 0位置保留，分区1放在List的索引1处
 		int partCount = 0;
 		
 		try {
@@ -160,7 +160,7 @@ public class PhyTableGroup implements IPhyTable {
 				getPartition(p).append(bcs, opt);
 			}
 		} finally {
-			// ɾʱļ
+			// 删除临时文件
 			for (int i = 1; i <= partCount; ++i) {
 				BFileWriter writer = tmpFiles.get(i);
 				if (writer != null) {
@@ -182,7 +182,7 @@ public class PhyTableGroup implements IPhyTable {
 			throw new RQException(mm.getMessage("dw.lessDistribute"));
 		}
 		
-		// ÿ·αͬһ
+		// 每个单路游标的数据属于同一个分区
 		if (cursor instanceof MultipathCursors) {
 			ICursor []cursors = ((MultipathCursors)cursor).getCursors();
 			for (ICursor cs : cursors) {
@@ -235,7 +235,7 @@ public class PhyTableGroup implements IPhyTable {
 			}
 		}
 		
-		// ûд˷򴴽
+		// 如果还没有创建此分区的组表则创建
 		File file = Env.getPartitionFile(p, fileName);
 		PhyTable tmd = (PhyTable)tables[0];
 		ComTable gt = tmd.getGroupTable().dupStruct(file);
@@ -303,7 +303,7 @@ public class PhyTableGroup implements IPhyTable {
 			return cursor(exps, fields, filter, fkNames, codes, opts, ctx);
 		}
 		
-		// ÿļֳpathCount·Ȼеi·ϳһα꣬ɶ·α
+		// 把每个文件分成pathCount路，然后所有的i路合成一个游标，最后再组成多路游标
 		int tableCount = tables.length;
 		ArrayList<ICursor> []lists = new ArrayList[pathCount];
 		for (int i = 0; i < pathCount; ++i) {
@@ -434,7 +434,7 @@ public class PhyTableGroup implements IPhyTable {
 							sort = false;
 						}
 					} else if (cursor instanceof Cursor) {
-						//пܷCursorʱ
+						//有可能返回Cursor，此时无序
 						sort = false;
 					} else if (cursor instanceof ConjxCursor) {
 						sort = false;
@@ -459,23 +459,23 @@ public class PhyTableGroup implements IPhyTable {
 	}
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取主键字段名（含主表）
+	 * @return 主键字段名数组
 	 */
 	public String[] getAllKeyColNames() {
 		return tables[0].getAllKeyColNames();
 	}
 	
 	/**
-	 * ֶ
-	 * @return ֶ
+	 * 返回排序字段名（含主表）
+	 * @return 排序字段名数组
 	 */
 	public String[] getAllSortedColNames() {
 		return tables[0].getAllSortedColNames();
 	}
 	
 	/**
-	 * СkeyУ
+	 * 返回所有列。（含主表key列）
 	 * @return
 	 */
 	public String[] getAllColNames() {
@@ -499,7 +499,7 @@ public class PhyTableGroup implements IPhyTable {
 		}
 	}
 	
-	// ȡֲʽ
+	// 取分布表达式串
 	public String getDistribute() {
 		return tables[0].getDistribute();
 	}
@@ -517,9 +517,9 @@ public class PhyTableGroup implements IPhyTable {
 	}
 	
 	/**
-	 * ֶι鲢ֱݷسα
-	 * @param ctx 
-	 * @return α
+	 * 按排序字段归并分表的数据返回成游标
+	 * @param ctx 计算上下文
+	 * @return 游标
 	 */
 	public ICursor merge(Context ctx) {
 		String []sortFields = tables[0].getAllSortedColNames();
@@ -533,7 +533,7 @@ public class PhyTableGroup implements IPhyTable {
 			cursors[i] = tables[i].cursor();
 		}
 		
-		// ֶǰ
+		// 排序字段在前面
 		int fcount = sortFields.length;
 		int []fields = new int[fcount];
 		for (int i = 0; i < fcount; ++i) {
@@ -549,15 +549,15 @@ public class PhyTableGroup implements IPhyTable {
 	}
 	
 	/**
-	 * ʹԤз
-	 * @param exps ʽ
-	 * @param names ʽ
-	 * @param newExps ܱʽ
-	 * @param newNames ܱʽ
-	 * @param srcTable Ҫ
-	 * @param w 
-	 * @param hasM Ƿ
-	 * @param n 
+	 * 使用预分组进行分组计算
+	 * @param exps 分组表达式
+	 * @param names 分组表达式新名字
+	 * @param newExps 汇总表达式
+	 * @param newNames 汇总表达式新名字
+	 * @param srcTable 要分组的组表
+	 * @param w 过滤条件
+	 * @param hasM 是否并行
+	 * @param n 并行数
 	 * @param option
 	 * @param ctx
 	 * @return
@@ -566,7 +566,7 @@ public class PhyTableGroup implements IPhyTable {
 			Expression w, boolean hasM, int n, String option,  Context ctx) {
 			int count = tables.length;
 			
-			//бĽŵһ
+			//把所有表的结果放到一起
 			Sequence result = Cuboid.cgroups(expNames, names, newExpNames, newNames, 
 					(PhyTable) tables[0], w, hasM, n, option, ctx);
 			for (int i = 1; i < count; ++i) {
@@ -575,23 +575,23 @@ public class PhyTableGroup implements IPhyTable {
 				result.addAll(seq);
 			}
 			
-			//֯ʽ
+			//组织分组表达式
 			count = names.length;
 			Expression exps[] = new Expression[count];
 			for (int i = 0; i < count; i++) {
 				exps[i] = new Expression(names[i]);
 			}
 			
-			//֯پۺϱʽ
-			Expression newExps[] = new Expression[count = newNames.length];//洢Ҫۺϵԭֶ
+			//组织再聚合表达式
+			Expression newExps[] = new Expression[count = newNames.length];//用来存储要聚合的原字段
 			for (int i = 0, len = count; i < len; i++) {
 				String str = newExpNames[i];
-				//countپۺϣҪΪۼ
+				//对count再聚合，要变为累加
 				if (str.indexOf("count(") != -1) {
 					str = str.replaceFirst("count", "sum");
 				}
 				
-				//پۺʱҪ滻һֶ
+				//再聚合时要替换一下字段名
 				String sub = str.substring(str.indexOf('(') + 1, str.indexOf(')'));
 				str = str.replaceAll(sub, "'" + newNames[i] + "'");
 				newExps[i] = new Expression(str);
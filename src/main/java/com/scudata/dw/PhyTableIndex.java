@@ -30,65 +30,65 @@ import com.scudata.util.EnvUtil;
 import com.scudata.util.Variant;
 
 /**
- * 
+ * 排序索引
  * @author runqian
  *
  */
 public class PhyTableIndex implements ITableIndex {
 	private static final int NULL = -1;
-	private static final int EQ = 0; // 
-	private static final int GE = 1; // ڵ
-	private static final int GT = 2; // 
-	private static final int LE = 3; // Сڵ
-	private static final int LT = 4; // С
+	private static final int EQ = 0; // 等于
+	private static final int GE = 1; // 大于等于
+	private static final int GT = 2; // 大于
+	private static final int LE = 3; // 小于等于
+	private static final int LT = 4; // 小于
 	private static final int LIKE = 5;
 	
 	protected static final int BUFFER_SIZE = 1024;
 	protected static final int BLOCK_START = -1;
 	protected static final int BLOCK_END = -2;
 	
-	public static final int MAX_LEAF_BLOCK_COUNT = 1000;//Ҷӽ¼
-	public static final int MAX_INTER_BLOCK_COUNT = 1000;//м¼
+	public static final int MAX_LEAF_BLOCK_COUNT = 1000;//叶子结点的最大记录数
+	public static final int MAX_INTER_BLOCK_COUNT = 1000;//中间结点的最大记录数
 	public static final int MAX_ROOT_BLOCK_COUNT = 1000;//
 	public static final int MAX_SEC_RECORD_COUNT = 100000;//max count of index2
 	
-	public static final int FETCH_SIZE = 20;//һȡ20
+	public static final int FETCH_SIZE = 20;//一次取20块出来
 	
-	protected long recordCount = 0; // Դ¼
-	protected long index1RecordCount = 0; // 1¼
-	protected long index1EndPos = 0; // 1ʱԴļ¼λ
-	protected String []ifields; // ֶ
+	protected long recordCount = 0; // 源记录数
+	protected long index1RecordCount = 0; // 索引1记录数
+	protected long index1EndPos = 0; // 索引1建立时源文件记录结束位置
+	protected String []ifields; // 索引字段名字
 	
 	protected String name;
 	protected PhyTable srcTable;
 	protected FileObject indexFile;
 	
-	// ʱʹ
-	protected Object []rootBlockMaxVals; // ÿһֵ
-	protected long []rootBlockPos; // ÿһλ	
+	// 查找时使用
+	protected Object []rootBlockMaxVals; // 每一块的最大值
+	protected long []rootBlockPos; // 每一块的位置	
 	protected long internalBlockCount = 0;
-	protected Object [][]internalAllBlockMaxVals; // мڵпֵ
-	protected long [][]internalAllBlockPos; // мڵпλõĻ
+	protected Object [][]internalAllBlockMaxVals; // 中间节点所有块的最大值
+	protected long [][]internalAllBlockPos; // 中间节点所有块的位置的缓存
 
-	protected Object []rootBlockMaxVals2; // ÿһֵ
-	protected long []rootBlockPos2; // ÿһλ	
+	protected Object []rootBlockMaxVals2; // 每一块的最大值
+	protected long []rootBlockPos2; // 每一块的位置	
 	protected long internalBlockCount2 = 0;
-	protected Object [][]internalAllBlockMaxVals2; // мڵпֵ
-	protected long [][]internalAllBlockPos2; // мڵпλ
+	protected Object [][]internalAllBlockMaxVals2; // 中间节点所有块的最大值
+	protected long [][]internalAllBlockPos2; // 中间节点所有块的位置
 	
 	protected long rootItPos = 0;//1st root node pos
 	protected long rootItPos2 = 0;// sec root node pos
 	protected long indexPos = 0;//sec index pos
 	protected long indexPos2 = 0;//sec index pos
 	
-	//㻺󣬲internalAllBlockPosҪ
+	//第三层缓存后，不能再用internalAllBlockPos，要用这个
 	protected transient byte [][][]cachedBlockReader;
 	protected transient byte [][][]cachedBlockReader2;
-	protected transient boolean isPrimaryKey;//Ƿ
+	protected transient boolean isPrimaryKey;//是否对主键建立的索引
 	protected transient int maxRecordLen;
 	protected Expression filter;
 	
-	protected int positionCount;//ÿһ¼ĵַд0д1д渽2
+	protected int positionCount;//每一条索引记录的地址个数，列存是0，行存基表是1，行存附表是2
 
 	private class FieldFilter {
 		private Object startVal;
@@ -103,7 +103,7 @@ public class PhyTableIndex implements ITableIndex {
 	}
 	
 	/**
-	 * ڽʱȡαţ
+	 * 用于建立索引时取数和伪号，不包含补区
 	 * @author runqian
 	 *
 	 */
@@ -124,7 +124,7 @@ public class PhyTableIndex implements ITableIndex {
 		private Sequence cache;
 		private boolean isClosed = false;
 		
-		private long curNum = 0;//ȫּ¼
+		private long curNum = 0;//全局记录号
 		
 		public CTableCursor(PhyTable table, String []fields, Context ctx, Expression filter) {
 			this.table = (ColPhyTable) table;
@@ -142,7 +142,7 @@ public class PhyTableIndex implements ITableIndex {
 				fields = table.getColNames();
 			}
 			
-			//ʽʱҪȡ
+			//有条件表达式时要取出所有
 			if (filter != null) {
 				columns = table.getColumns();
 			} else {
@@ -452,9 +452,9 @@ public class PhyTableIndex implements ITableIndex {
 		private int curBlock = 0;
 		private Sequence cache;
 		private boolean isClosed = false;
-		private boolean isPrimaryTable; // Ƿ
+		private boolean isPrimaryTable; // 是否主表
 		
-		private RTableCursor parentCursor;//α
+		private RTableCursor parentCursor;//主表游标
 		private Record curPkey;
 		private long pseq;
 		
@@ -470,7 +470,7 @@ public class PhyTableIndex implements ITableIndex {
 			
 			init();
 		}
-		//filterֶҪ
+		//filter里的字段要读出来
 		private void parseFilter(Node node) {
 			if (node == null) return;
 			if (node instanceof UnknownSymbol) {
@@ -541,7 +541,7 @@ public class PhyTableIndex implements ITableIndex {
 			 while (pseq != this.pseq) {
 				Sequence pkeyData = parentCursor.fetch(1);
 				if (pkeyData == null) {
-					//ȡˣﲻӦûݣ쳣
+					//主表取到最后了，附表里不应该还有数据，抛异常
 					MessageManager mm = EngineMessage.get();
 					throw new RQException("index " + mm.getMessage("grouptable.invalidData"));
 				}
@@ -597,8 +597,8 @@ public class PhyTableIndex implements ITableIndex {
 			
 			ObjectReader rowDataReader = this.rowDataReader;
 			long pos;
-			long seq;//α
-			long pseq = 0;//α
+			long seq;//伪号
+			long pseq = 0;//导列伪号
 			boolean isPrimaryTable = this.isPrimaryTable;
 			int startIndex;
 			if (isPrimaryTable) {
@@ -635,7 +635,7 @@ public class PhyTableIndex implements ITableIndex {
 							pos = calcPosition(rowReader, rowDataReader);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f]) 
@@ -675,7 +675,7 @@ public class PhyTableIndex implements ITableIndex {
 								pos = calcPosition(rowReader, rowDataReader);
 								seq = rowDataReader.readLong();
 								if (!isPrimaryTable) {
-									pseq = rowDataReader.readLong();//
+									pseq = rowDataReader.readLong();//跳过导列
 								}
 								for (int f = startIndex; f < allCount; ++f) {
 									if (needRead[f]) 
@@ -730,7 +730,7 @@ public class PhyTableIndex implements ITableIndex {
 							pos = calcPosition(rowReader, rowDataReader);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f]) 
@@ -760,7 +760,7 @@ public class PhyTableIndex implements ITableIndex {
 							pos = calcPosition(rowReader, rowDataReader);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//跳过导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f]) 
@@ -788,7 +788,7 @@ public class PhyTableIndex implements ITableIndex {
 							pos = calcPosition(rowReader, rowDataReader);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f]) 
@@ -857,7 +857,7 @@ public class PhyTableIndex implements ITableIndex {
 					for (int i = 0; i < recordCount; ++i) {
 						rowDataReader.readLong();
 						if (!isPrimaryTable) {
-							rowDataReader.readLong();//
+							rowDataReader.readLong();//导列
 						}
 						for (int f = 0; f < allCount; ++f) {
 							rowDataReader.readObject();
@@ -950,10 +950,10 @@ public class PhyTableIndex implements ITableIndex {
 		writer.writeLong64(recordCount);
 		writer.writeLong64(index1EndPos);
 		writer.writeLong64(index1RecordCount);
-		writer.writeLong64(rootItPos);// ָroot1 info ʼλ
-		writer.writeLong64(rootItPos2);// ָroot2 info ʼλ
-		writer.writeLong64(indexPos);// 1st index ʼλ
-		writer.writeLong64(indexPos2);// second index ʼλ
+		writer.writeLong64(rootItPos);// 指向root1 info 开始位置
+		writer.writeLong64(rootItPos2);// 指向root2 info 开始位置
+		writer.writeLong64(indexPos);// 1st index 开始位置
+		writer.writeLong64(indexPos2);// second index 开始位置
 		
 		writer.writeStrings(ifields);
 		if (filter != null) {
@@ -969,10 +969,10 @@ public class PhyTableIndex implements ITableIndex {
 		writer.writeLong64(recordCount);
 		writer.writeLong64(index1EndPos);
 		writer.writeLong64(index1RecordCount);
-		writer.writeLong64(rootItPos);// ָroot1 info ʼλ
-		writer.writeLong64(rootItPos2);// ָroot2 info ʼλ
-		writer.writeLong64(indexPos);// 1st index ʼλ
-		writer.writeLong64(indexPos2);// second index ʼλ
+		writer.writeLong64(rootItPos);// 指向root1 info 开始位置
+		writer.writeLong64(rootItPos2);// 指向root2 info 开始位置
+		writer.writeLong64(indexPos);// 1st index 开始位置
+		writer.writeLong64(indexPos2);// second index 开始位置
 	}
 	
 	protected void readHeader(ObjectReader reader) throws IOException {
@@ -1005,9 +1005,9 @@ public class PhyTableIndex implements ITableIndex {
 	}
 
 	/**
-	 * 
-	 * ļṹrqit + 8byte + Դļ¼ + Դļλ + [ֶ] + Դļ + 
-	 * BLOCK_START +[n + value + pos1,...,posn],... BLOCK_END +  + λ
+	 * 建立索引
+	 * 文件结构：‘rqit’ + 8byte + 源文件记录数 + 源文件结束位置 + [索引字段] + 源文件名 + 
+	 * BLOCK_START +[n + value + pos1,...,posn],... BLOCK_END + 索引表 + 索引表位置
 	 * @param fields
 	 * @param opt
 	 * @param ctx
@@ -1015,9 +1015,9 @@ public class PhyTableIndex implements ITableIndex {
 	 */
 	public void create(String []fields, String opt, Context ctx, Expression filter) {
 		int icount = fields.length;
-		boolean isAppend = false;//׷ӻ½
-		boolean isAdd = true;//ǷҪtable
-		boolean isReset = false;//ؽ
+		boolean isAppend = false;//追加还是新建
+		boolean isAdd = true;//是否需要添加索引到table
+		boolean isReset = false;//重建
 		
 		if (indexFile.size() > 0) {
 			if ((opt == null) ||(opt != null && opt.indexOf('a') == -1)) {
@@ -1036,7 +1036,7 @@ public class PhyTableIndex implements ITableIndex {
 				readHeader(reader);
 				filter = this.filter;
 				if (recordCount == 0) {
-					isReset = true;//ǿյģappend
+					isReset = true;//如果是空的，则不能做append
 				}
 				if (recordCount - index1RecordCount > MAX_SEC_RECORD_COUNT || isReset) {
 					isAppend = false;
@@ -1076,7 +1076,7 @@ public class PhyTableIndex implements ITableIndex {
 					ICursor cursor = new MergesCursor(cursors, exps, ctx);
 					createIndexTable(cursor, indexFile, true);
 				}
-				srcTable.getTableMetaDataIndex(indexFile, null, false);//׷ӺҪcache
+				srcTable.getTableMetaDataIndex(indexFile, null, false);//追加后要清除cache
 			} catch (IOException e) {
 				throw new RQException(e.getMessage(), e);
 			} finally {
@@ -1126,7 +1126,7 @@ public class PhyTableIndex implements ITableIndex {
 				createIndexTable(cursor, tmpFile, false);
 			}
 			
-			srcTable.getTableMetaDataIndex(indexFile, null, false);//׷ӺҪcache
+			srcTable.getTableMetaDataIndex(indexFile, null, false);//追加后要清除cache
 			if (needDelete) {
 				indexFile.delete();
 				tmpFile.move(indexFile.getFileName(), null);
@@ -1143,7 +1143,7 @@ public class PhyTableIndex implements ITableIndex {
 	}
 
 	/**
-	 * memsͬĸ
+	 * 获得mems里连续相同对象的个数
 	 * @param mems
 	 * @param from
 	 * @param fcount
@@ -1177,10 +1177,10 @@ public class PhyTableIndex implements ITableIndex {
 		long perCount = MAX_LEAF_BLOCK_COUNT;
 
 		ArrayList<Record> maxValues = new ArrayList<Record>();
-		Record []rootMaxValues;// rootֵ
-		long []positions; // internalļеʼλ
-		long []rootPositions; // rootļеʼλ
-		int blockCount = 0; // 
+		Record []rootMaxValues;// root索引块的最大值
+		long []positions; // internal索引块在文件中的起始位置
+		long []rootPositions; // root索引块在文件中的起始位置
+		int blockCount = 0; // 索引块数
 		long itPos;
 		int recCount = 0;
 		
@@ -1192,7 +1192,7 @@ public class PhyTableIndex implements ITableIndex {
 			ifs[i] = new Expression("#" + (i + 1));
 		}
 		
-		//ǷǶ
+		//检查是否是对主键建立索引
 		boolean isPrimaryKey = false;
 		String[] keyNames = srcTable.getAllSortedColNames();
 		if (srcTable.hasPrimaryKey && keyNames != null && ifields.length == keyNames.length) {
@@ -1228,7 +1228,7 @@ public class PhyTableIndex implements ITableIndex {
 				}
 				
 				while (table != null) {
-					//ÿд20
+					//每次写20块
 					IArray mems = table.getMems();
 					int rest = mems.size();
 					recCount += rest;
@@ -1244,7 +1244,7 @@ public class PhyTableIndex implements ITableIndex {
 							for (int f = 0; f <= icount; ++f) {
 								writer.writeObject(r.getNormalFieldValue(f));
 							}
-							//дʱҪѵַҲд
+							//行存时，要把地址也都写下来
 							for (int i = 1; i <= posCount; ++i) {
 								writer.writeObject(r.getNormalFieldValue(icount + i));
 							}
@@ -1288,7 +1288,7 @@ public class PhyTableIndex implements ITableIndex {
 						for (int i = 0; i < len; ++i) {
 							r = (Record)mems.get(i + p);
 							writer.writeObject(r.getNormalFieldValue(icount));
-							//дʱҪѵַҲд
+							//行存时，要把地址也都写下来
 							for (int j = 1; j <= posCount; ++j) {
 								writer.writeObject(r.getNormalFieldValue(icount + j));
 							}
@@ -1321,9 +1321,9 @@ public class PhyTableIndex implements ITableIndex {
 			} catch (IOException ie){};
 		}
 
-		//recCount
+		//根据recCount处理条数
 		this.recordCount = recCount + index1RecordCount;
-		long srcRecordCount = recordCount;//ݴһ£Ϊļͷʱᱻ¸ֵ
+		long srcRecordCount = recordCount;//暂存一下，因为读文件头时会被重新赋值
 		positions = new long[blockCount];
 		InputStream is = indexFile.getInputStream();
 		ObjectReader reader = new ObjectReader(is, BUFFER_SIZE);
@@ -1348,7 +1348,7 @@ public class PhyTableIndex implements ITableIndex {
 					
 					for (int j = 0; j < count; ++j) {
 						reader.readLong();
-						//дʱҪѵַҲ
+						//行存时，要把地址也都跳过
 						for (int c = 0; c < posCount; ++c) {
 							reader.readLong();
 						}
@@ -1356,7 +1356,7 @@ public class PhyTableIndex implements ITableIndex {
 				}
 			}
 			
-			itPos = reader.position();//interBlockʼλ
+			itPos = reader.position();//interBlock开始位置
 		} catch (IOException e) {
 			throw new RQException(e.getMessage(), e);
 		} finally {
@@ -1392,7 +1392,7 @@ public class PhyTableIndex implements ITableIndex {
 			} catch (IOException ie){};
 		}
 		
-		//rootMaxValues 
+		//获得rootMaxValues 
 		int rootBlockCount = (blockCount/MAX_INTER_BLOCK_COUNT);
 		rootBlockCount += (blockCount % MAX_INTER_BLOCK_COUNT==0) ? 0 : 1;
 		rootMaxValues = new Record[rootBlockCount];
@@ -1401,12 +1401,12 @@ public class PhyTableIndex implements ITableIndex {
 		}
 		rootMaxValues[rootBlockCount - 1] = maxValues.get(blockCount - 1);
 		
-		// rootPositions
+		//获得 rootPositions
 		rootPositions = new long[rootBlockCount];
 		is = indexFile.getInputStream();
 		reader = new ObjectReader(is, BUFFER_SIZE);
 		try {
-			reader.seek(itPos);//λinternalBlock start
+			reader.seek(itPos);//定位到internalBlock start
 			for (int i = 0; i < blockCount; ++i) {
 				if (i % MAX_INTER_BLOCK_COUNT == 0){
 					rootPositions[i/MAX_INTER_BLOCK_COUNT] = reader.position();
@@ -1436,11 +1436,11 @@ public class PhyTableIndex implements ITableIndex {
 			rootItPos = itPos;
 			rootItPos2 = 0;
 			recordCount = srcRecordCount;
-			index1RecordCount = srcRecordCount;//1ļ¼˺
-			index1EndPos = srcTable.getTotalRecordCount();//1ʱԴǱ˺ģҲ
+			index1RecordCount = srcRecordCount;//1区里的记录条数，过滤后的
+			index1EndPos = srcTable.getTotalRecordCount();//建立1区时源表里的条数，不是被条件过滤后的，也不包含补区
 		}
 
-		//дrootMaxValues rootPositions
+		//写rootMaxValues rootPositions
 		os = indexFile.getRandomOutputStream(true);
 		writer = new RandomObjectWriter(os);
 		try {
@@ -1454,7 +1454,7 @@ public class PhyTableIndex implements ITableIndex {
 				writer.writeLong(rootPositions[i]);
 			}
 			
-			writer.writeLong64(blockCount);//internalܸ
+			writer.writeLong64(blockCount);//internal块的总个数
 		} catch (IOException e) {
 			throw new RQException(e.getMessage(), e);
 		} finally {
@@ -1512,7 +1512,7 @@ public class PhyTableIndex implements ITableIndex {
 				
 				ifields[i] = fields[i];
 			}
-			//ǷǶ
+			//检查是否是对主键建立索引
 			keyNames = srcTable.getAllSortedColNames();
 			if (srcTable.isSorted && keyNames != null && keyNames.length >= fields.length) {
 				boolean isKeyField = true;
@@ -1534,8 +1534,8 @@ public class PhyTableIndex implements ITableIndex {
 			}
 			
 			//Runtime rt = Runtime.getRuntime();
-			int baseCount = 100000;//ÿȡ
-			boolean flag = false;//ǷʱļС
+			int baseCount = 100000;//每次取出来的条数
+			boolean flag = false;//是否调整过临时文件大小
 			
 			ArrayList <ICursor>cursorList = new ArrayList<ICursor>();
 			Table table;
@@ -1624,7 +1624,7 @@ public class PhyTableIndex implements ITableIndex {
 				ifields[i] = fields[i];
 			}
 			
-			//ǷǶ
+			//检查是否是对主键建立索引
 			keyNames = srcTable.getSortedColNames();
 			if (srcTable.isSorted && keyNames != null && keyNames.length >= fields.length) {
 				boolean isKeyField = true;
@@ -1646,8 +1646,8 @@ public class PhyTableIndex implements ITableIndex {
 			}
 
 			//Runtime rt = Runtime.getRuntime();
-			int baseCount = 100000;//ÿȡ
-			boolean flag = false;//ǷʱļС
+			int baseCount = 100000;//每次取出来的条数
+			boolean flag = false;//是否调整过临时文件大小
 			
 			ArrayList <ICursor>cursorList = new ArrayList<ICursor>();
 			Table table;
@@ -1741,8 +1741,8 @@ public class PhyTableIndex implements ITableIndex {
 			} else if (cmp > 0) {
 				high = mid - 1;
 			} else {
-				// ֻԲֶʱظ
-				if (isStart) { // ʼλ
+				// 只对部分索引字段提条件时可能有重复的
+				if (isStart) { // 找起始位置
 					for (int i = mid - 1; i >= 0; --i) {
 						if (Variant.compareArrays(objs[i], keys, keyCount) == 0) {
 							mid = i;
@@ -1750,7 +1750,7 @@ public class PhyTableIndex implements ITableIndex {
 							break;
 						}
 					}
-				} else { // ҽλ
+				} else { // 找结束位置
 					for (int i = mid + 1; i <= high; ++i) {
 						if (Variant.compareArrays(objs[i], keys, keyCount) == 0) {
 							mid = i;
@@ -1773,12 +1773,12 @@ public class PhyTableIndex implements ITableIndex {
 		}
 	}
 
-	//ֵҿźλã
-	//key[] Ҫҵֵ
-	//icount ֶθ
-	//isStart Ƿҿʼ
-	//pos[] ҵλ
-	//index[] ҵĿ
+	//根据值查找块号和位置，两个索引区都查找
+	//key[] 要查找的值
+	//icount 字段个数
+	//isStart 是否是找开始
+	//pos[] 输出找到的位置
+	//index[] 输出找到的块号
 	private void searchValue(Object[] key, int icount, boolean isStart, long[] pos, int[] index) {
 		//int rootBlockCount = rootBlockMaxVals.length;
 		int i = 0;
@@ -1880,7 +1880,7 @@ public class PhyTableIndex implements ITableIndex {
 			int icount = ifields.length;
 			if (rootBlockMaxVals == null) {
 				reader.seek(rootItPos);
-				rootBlockCount1 = reader.readInt(); // 
+				rootBlockCount1 = reader.readInt(); // 索引块数
 				Object []maxValues;
 				long []positions = new long[rootBlockCount1];
 				
@@ -1909,7 +1909,7 @@ public class PhyTableIndex implements ITableIndex {
 			
 			if (rootItPos2 != 0 && rootBlockMaxVals2 == null) {
 				reader.seek(rootItPos2);
-				rootBlockCount2 = reader.readInt(); // 
+				rootBlockCount2 = reader.readInt(); // 索引块数
 				Object []maxValues;
 				long []positions = new long[rootBlockCount2];
 				
@@ -1946,10 +1946,10 @@ public class PhyTableIndex implements ITableIndex {
 	}
 
 	/**
-	 * ȡһмϢ
+	 * 读取一个中间块信息
 	 * @param fo
 	 * @param pos
-	 * @param blockInfo	
+	 * @param blockInfo	输出
 	 */
 	private void readInternalBlockInfo(FileObject fo, long pos, BlockInfo blockInfo) {
 		int interBlockCount;
@@ -1969,7 +1969,7 @@ public class PhyTableIndex implements ITableIndex {
 			
 			int icount = ifields.length;
 			reader.seek(pos);
-			interBlockCount = reader.readInt(); // 
+			interBlockCount = reader.readInt(); // 索引块数
 			Object []maxValues;
 			long []positions = new long[interBlockCount];
 			
@@ -2003,7 +2003,7 @@ public class PhyTableIndex implements ITableIndex {
 		}
 	}
 	
-	// ؼ¼
+	// 返回记录数
 	public long count() {
 		InputStream is = indexFile.getInputStream();
 		ObjectReader reader = new ObjectReader(is, BUFFER_SIZE);
@@ -2020,7 +2020,7 @@ public class PhyTableIndex implements ITableIndex {
 		}
 	}
 	
-	// 1ʼ
+	// 从1开始计数
 	public ICursor selectRow(long start, long end, String []fields, String opt, Context ctx) {
 		if (opt != null) {
 			if (opt.indexOf('l') == -1) start++;
@@ -2066,7 +2066,7 @@ public class PhyTableIndex implements ITableIndex {
 		}
 	}
 	
-	// 1ʼ
+	// 从1开始计数
 	public ICursor selectRow(long []posArray, String []fields, String opt, Context ctx) {
 		InputStream is = indexFile.getInputStream();
 		ObjectReader reader = new ObjectReader(is, BUFFER_SIZE);
@@ -2102,7 +2102,7 @@ public class PhyTableIndex implements ITableIndex {
 		}
 	}
 	
-	//ĿǰûõԱ
+	//目前没有用到，仍保留
 	/**
 	 * 
 	 * @param exp
@@ -2111,7 +2111,7 @@ public class PhyTableIndex implements ITableIndex {
 	 * @param fields
 	 * @param opt
 	 * @param ctx
-	 * @return	ַ(α)
+	 * @return	地址(伪号)数组
 	 */
  	@SuppressWarnings("unused")
 	private LongArray select(Expression exp, Object []startVals, Object []endVals, 
@@ -2301,7 +2301,7 @@ public class PhyTableIndex implements ITableIndex {
 	}
 	
  	/**
- 	 * ֵѯֶΣ
+ 	 * 按值区间查询（多字段）
  	 * @param startVals
  	 * @param endVals
  	 * @param opt
@@ -2398,7 +2398,7 @@ public class PhyTableIndex implements ITableIndex {
 	}
 
 	/**
-	 * һβѯֵ
+	 * 一次查询多个值
 	 * @param vals
 	 * @param opt
 	 * @param ctx
@@ -2449,7 +2449,7 @@ public class PhyTableIndex implements ITableIndex {
 	}
 
 	/**
-	 * һβѯֵ
+	 * 一次查询多个值
 	 * @param vals
 	 * @param opt
 	 * @param ctx
@@ -2485,7 +2485,7 @@ public class PhyTableIndex implements ITableIndex {
 	}
 
 	/**
-	 * ʽexpѯ
+	 * 按表达式exp查询
 	 */
 	public ICursor select(Expression exp, String []fields, String opt, Context ctx) {
 		if (opt != null && opt.indexOf('s') != -1 && rootItPos2 != 0) {
@@ -2567,11 +2567,11 @@ public class PhyTableIndex implements ITableIndex {
 	}
 	
 	/**
-	 * ʽѯ
+	 * 按表达式查询
 	 * @param exp
 	 * @param opt
 	 * @param ctx
-	 * @return	ַ(α)
+	 * @return	地址(伪号)数组
 	 */
 	public LongArray select(Expression exp, String opt, Context ctx) {
 		readBlockInfo(indexFile);
@@ -2582,7 +2582,7 @@ public class PhyTableIndex implements ITableIndex {
 			throw new RQException(mm.getMessage("Expression.unknownExpression") + exp.toString());
 		}
 		
-		//containʽ
+		//处理contain表达式
 		Node home = exp.getHome();
 		if (home instanceof DotOperator) {
 			Node left = home.getLeft();
@@ -2617,7 +2617,7 @@ public class PhyTableIndex implements ITableIndex {
 			return select(series, opt, ctx);
 		}
 		
-		//like(F,"xxx*")ʽ
+		//处理like(F,"xxx*")表达式
 		if (home instanceof Like) {
 			if (((Like) home).getParam().getSubSize() != 2) {
 				MessageManager mm = EngineMessage.get();
@@ -2645,7 +2645,7 @@ public class PhyTableIndex implements ITableIndex {
 				if (filters[last] != null) break;
 			}
 			
-			// ĶȱȽŻ[a,b...v1]:[a,b...v2]
+			// 如果左面的都是相等比较则可以优化成[a,b...v1]:[a,b...v2]
 			boolean canOpt = true;
 			for (int i = 0; i < last; ++i) {
 				if (filters[i] == null || filters[i].startSign != EQ) {
@@ -2662,7 +2662,7 @@ public class PhyTableIndex implements ITableIndex {
 					}
 					
 					if (icount == last + 1) {
-						//ֶεĵ
+						//如果是所有字段的等于
 						Sequence seq = new Sequence();
 						seq.addAll(vals);
 						if (icount == 1) {
@@ -2691,8 +2691,8 @@ public class PhyTableIndex implements ITableIndex {
 			}
 		}
 
-		Sequence vals = new Sequence(icount); // ǰжϵֶεֵ
-		FieldFilter ff = null; // һжϵֶεϢ
+		Sequence vals = new Sequence(icount); // 前面做相等判断的字段的值
+		FieldFilter ff = null; // 第一个做非相等判断的字段的信息
 		
 		for (int i = 0; i < icount; ++i) {
 			FieldFilter filter = new FieldFilter();
@@ -2934,7 +2934,7 @@ public class PhyTableIndex implements ITableIndex {
 	}
 	
 	/**
-	 * ҳֶε
+	 * 找出索引字段的区间
 	 * @param fieldIndex
 	 * @param home
 	 * @param filter
@@ -2988,7 +2988,7 @@ public class PhyTableIndex implements ITableIndex {
 				filter.startSign = GT;
 				filter.startVal = left.calculate(ctx);
 			}
-		} // or
+		} // 忽略or和其它运算符
 	}
 
 	private LongArray readPos(ObjectReader reader, Expression exp, Context ctx, 
@@ -3186,9 +3186,9 @@ public class PhyTableIndex implements ITableIndex {
 		for (int i = 0; i < rootCount; ++i) {
 			if (cachedBlockReader == null) {
 				if (internalAllBlockPos == null) {
-					readInternalBlockInfo(indexFile, rootBlockPos[i], blockInfo);//ûԤ
+					readInternalBlockInfo(indexFile, rootBlockPos[i], blockInfo);//没预加载
 				} else {
-					readInternalBlockInfo(false, i, blockInfo);//ڶ
+					readInternalBlockInfo(false, i, blockInfo);//第二层加载
 				}
 				
 				index = readPos_s(reader, vals, index, blockInfo.internalBlockMaxVals, blockInfo.internalBlockPos, tempPos);
@@ -3236,7 +3236,7 @@ public class PhyTableIndex implements ITableIndex {
 		while (true) {
 			int count = reader.readInt();
 			if (count == BLOCK_START) {
-				// ʱȽһǷ鶼ȵǰҪȡֵС
+				// 换块时比较一下是否整个块都比当前要取的值小，如果是则跳过块
 				while (true) {
 					block++;
 					if (block >= blockCount) break Next;
@@ -3383,7 +3383,7 @@ public class PhyTableIndex implements ITableIndex {
 		while (true) {
 			int count = reader.readInt();
 			if (count == BLOCK_START) {
-				// ʱȽһǷ鶼ȵǰҪȡֵС
+				// 换块时比较一下是否整个块都比当前要取的值小，如果是则跳过块
 				while (true) {
 					block++;
 					if (block >= blockCount) break Next;
@@ -3526,7 +3526,7 @@ public class PhyTableIndex implements ITableIndex {
 					r.setNormalFieldValue(0, cur);
 					Object b = exp.calculate(ctx);
 					if (Variant.isTrue(b)) {
-						findFirst = true;//ҵ
+						findFirst = true;//找到了
 						for (int i = 0; i < count; ++i) {
 							posArray.add(reader.readLong());
 							for (int j = 0; j < posCount; ++j) {
@@ -3541,14 +3541,14 @@ public class PhyTableIndex implements ITableIndex {
 							}
 						}
 						if (findFirst) {
-							//һ
+							//都在这一块里
 							findFirst = false;
 							break;
 						}
 					}
 				}
 				if (!findFirst) {
-					//ûҵ߶ڵһҺ
+					//没找到，或者都在第一块里，则不再找后续块
 					break;
 				}
 				
@@ -3762,7 +3762,7 @@ public class PhyTableIndex implements ITableIndex {
 		case EQ:
 			reader.seek(seqPos);
 			while (true) {
-				// ֶʱֻѡֶοظ
+				// 多字段索引时，只选部分字段可能有重复的
 				int count = reader.readInt();
 				if (count == BLOCK_START) {
 					count = reader.readInt();
@@ -3955,7 +3955,7 @@ public class PhyTableIndex implements ITableIndex {
 			case EQ:
 				reader.seek(seqPos);
 				while (true) {
-					// ֶʱֻѡֶοظ
+					// 多字段索引时，只选部分字段可能有重复的
 					int count = reader.readInt();
 					if (count == BLOCK_START) {
 						count = reader.readInt();
@@ -4922,7 +4922,7 @@ public class PhyTableIndex implements ITableIndex {
 	public synchronized void loadAllKeys() {
 		if (internalAllBlockPos!= null) return;
 		
-		//ǷǶ
+		//检查是否是对主键建立索引
 		boolean isPrimaryKey = false;
 		String[] keyNames = srcTable.getAllSortedColNames();
 		if (srcTable.hasPrimaryKey && keyNames != null && ifields.length == keyNames.length) {
@@ -4983,9 +4983,9 @@ public class PhyTableIndex implements ITableIndex {
 				threads[i] = newLoadDataThread(needRecNum, cachedBlockReader, internalAllBlockPos, reader, icount,
 						i * avg, (i + 1) * avg, posCount);
 			}
-			threads[i].start(); // ߳
+			threads[i].start(); // 启动线程
 		}
-		// ȴ߳̽
+		// 等待所有子线程结束
 		for (int i = 0; i < parallelNum; ++i) {
 			try {
 				threads[i].join();
@@ -5013,9 +5013,9 @@ public class PhyTableIndex implements ITableIndex {
 					threads[i] = newLoadDataThread(needRecNum, cachedBlockReader2, internalAllBlockPos2, reader, icount,
 							i * avg, (i + 1) * avg, posCount);
 				}
-				threads[i].start(); // ߳
+				threads[i].start(); // 启动线程
 			}
-			// ȴ߳̽
+			// 等待所有子线程结束
 			for (int i = 0; i < parallelNum; ++i) {
 				try {
 					threads[i].join();
@@ -5054,7 +5054,7 @@ public class PhyTableIndex implements ITableIndex {
 //							if (needRecNum) {
 //								writer.writeLong(reader.readLong());
 //							} else {
-//								//ûвʱҪα
+//								//没有补区时不需要伪号
 //								reader.readLong();
 //								writer.writeLong(0);
 //							}
@@ -5105,7 +5105,7 @@ public class PhyTableIndex implements ITableIndex {
 //								if (needRecNum) {
 //									writer.writeLong(reader.readLong());
 //								} else {
-//									//ûвʱҪα
+//									//没有补区时不需要伪号
 //									reader.readLong();
 //									writer.writeLong(0);
 //								}
@@ -5144,7 +5144,7 @@ public class PhyTableIndex implements ITableIndex {
 						}
 					}
 				}
-				//ȫ̫ʱֻȡͷһԤ
+				//全遍历太耗时，所以只取开头的一部分做预测
 				//table = cs.fetch(ICursor.FETCHCOUNT);
 				table = null;
 			}
@@ -5164,7 +5164,7 @@ public class PhyTableIndex implements ITableIndex {
 		return new Thread() {
 			public void run() {
 				try {
-					//ѵkey浽bufferͬʱַҲָڴ
+					//把第三层的key保存到buffer，同时地址也都指向内存
 					for (int c = start; c < end; ++c) {
 
 						int len = internalAllBlockPos[c].length;
@@ -5192,7 +5192,7 @@ public class PhyTableIndex implements ITableIndex {
 									if (needRecNum) {
 										writer.writeLong(reader.readLong());
 									} else {
-										//ûвʱҪα
+										//没有补区时不需要伪号
 										reader.readLong();
 										writer.writeLong(0);
 									}
@@ -5234,7 +5234,7 @@ public class PhyTableIndex implements ITableIndex {
 		EnvUtil.runGC(rt);
 	}
 
-	//Ļ
+	//有主键的基表用这个
 	private int readPos_p_cache(Sequence vals, int srcIndex, 
 			Object []blockMaxVals, byte [][]blockBuffers, LongArray outPos) throws IOException {
 		IArray mems = vals.getMems();
@@ -5251,7 +5251,7 @@ public class PhyTableIndex implements ITableIndex {
 		while (true) {
 			int count = bufferReader.readInt();
 			if (count == BLOCK_START) {
-				// ʱȽһǷ鶼ȵǰҪȡֵС
+				// 换块时比较一下是否整个块都比当前要取的值小，如果是则跳过块
 				while (true) {
 					block++;
 					if (block >= blockCount) break Next;
@@ -5291,7 +5291,7 @@ public class PhyTableIndex implements ITableIndex {
 				
 				srcVal = mems.get(srcIndex);
 				
-				//µҪҵֵڱֵ
+				//如果新的要查找的值大于本块最大值，则跳块
 				if (Variant.compare(blockMaxVals[block], srcVal, true) < 0) {
 					while (true) {
 						block++;
@@ -5364,7 +5364,7 @@ public class PhyTableIndex implements ITableIndex {
 		while (true) {
 			int count = bufferReader.readInt();
 			if (count == BLOCK_START) {
-				// ʱȽһǷ鶼ȵǰҪȡֵС
+				// 换块时比较一下是否整个块都比当前要取的值小，如果是则跳过块
 				while (true) {
 					block++;
 					if (block >= blockCount) break Next;
@@ -5413,7 +5413,7 @@ public class PhyTableIndex implements ITableIndex {
 				
 				srcVal = mems.get(srcIndex);
 				
-				//µҪҵֵڱֵ
+				//如果新的要查找的值大于本块最大值，则跳块
 				if (Variant.compare(blockMaxVals[block], srcVal, true) < 0) {
 					while (true) {
 						block++;
@@ -5508,7 +5508,7 @@ public class PhyTableIndex implements ITableIndex {
 		while (true) {
 			int count = bufferReader.readInt();
 			if (count == BLOCK_START) {
-				// ʱȽһǷ鶼ȵǰҪȡֵС
+				// 换块时比较一下是否整个块都比当前要取的值小，如果是则跳过块
 				while (true) {
 					block++;
 					if (block >= blockCount) break Next;
@@ -5608,9 +5608,9 @@ public class PhyTableIndex implements ITableIndex {
 	}
 	
 	/**
-	 * װм
-	 * @param isSec Ƿǵڶ
-	 * @param i		װصڼ
+	 * 装载中间块
+	 * @param isSec 是否是第二索引
+	 * @param i		装载第几块
 	 */
 	private void readInternalBlockInfo(boolean isSec, int i, BlockInfo blockInfo) {
 		if (!isSec) {
@@ -5623,11 +5623,11 @@ public class PhyTableIndex implements ITableIndex {
 	}
 	
 	/**
-	 * key[0]ͷ
-	 * @param key	key[0]String
-	 * @param exp	likeʽ
+	 * 查找以key[0]开头的
+	 * @param key	key[0]是String
+	 * @param exp	like表达式
 	 * @param ctx
-	 * @return	ַ(α)
+	 * @return	地址(伪号)数组
 	 */
 	public LongArray select(String []key, Expression exp, String opt, Context ctx) {
 		int start[] = new int[2];
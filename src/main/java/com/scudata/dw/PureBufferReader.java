@@ -17,18 +17,18 @@ import com.scudata.dm.Sequence;
 import com.scudata.dm.SerialBytes;
 
 /**
- * °汾ʱĶȡ
+ * 新版本组表时的读取处理类
  * @author LW
  *
  */
 public class PureBufferReader extends BufferReader {
-	private int blockType;//
-	private int dataType;//ֵֻͣʱ壩
+	private int blockType;//块类型
+	private int dataType;//数据类型（只有字典块类型时才有意义）
 	private Sequence dict;
 	private int[] pos;
 	private Object constValue;
 	private boolean[] isNull;
-	private int dataIndex = 0;//άisNull
+	private int dataIndex = 0;//用于维护isNull
 	
 	public PureBufferReader(StructManager structManager, byte[] buffer, int recordCount, Sequence columnDict) {
 		super(structManager, buffer);
@@ -349,7 +349,7 @@ public class PureBufferReader extends BufferReader {
 	}
 	
 	/**
-	 * ȡһarrayָλ
+	 * 读取一个对象到array的指定位置
 	 * @param array
 	 * @param index
 	 * @return
@@ -506,7 +506,7 @@ public class PureBufferReader extends BufferReader {
 	}
 	
 	/**
-	 * ݿͻһ
+	 * 根据块类型获得一个数组
 	 * @param count
 	 * @return
 	 */
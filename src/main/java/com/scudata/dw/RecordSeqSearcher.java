@@ -7,28 +7,28 @@ import com.scudata.dm.ObjectReader;
 import com.scudata.util.Variant;
 
 /**
- * ¼
+ * 记录查找器
  * @author runqian
  *
  */
 class RecordSeqSearcher {
-	private ColPhyTable table;//
+	private ColPhyTable table;//本表
 	
-	private long prevRecordCount = 0;//ǰѾȡļ¼
-	private int curBlock = -1;//ǰ
-	private int totalBlockCount;//ܿ
+	private long prevRecordCount = 0;//当前已经取出的记录数
+	private int curBlock = -1;//当前块号
+	private int totalBlockCount;//总块数
 	
 	private BlockLinkReader rowCountReader;
 	private BlockLinkReader []colReaders;
 	private ObjectReader []segmentReaders;
 	
-	private long []positions; // ǰÿеλ
-	private Object []minValues; // ǰÿеСֵ
-	private Object []maxValues; // ǰÿеֵ
+	private long []positions; // 当前块的每个键列的位置
+	private Object []minValues; // 当前块的每个键列的最小值
+	private Object []maxValues; // 当前块的每个键列的最大值
 	
-	private int curRecordCount = 0; // ǰļ¼
-	private int curIndex = -1; // -1黹û
-	private Object [][]blockKeyValues;//άֵ
+	private int curRecordCount = 0; // 当前块的记录数
+	private int curIndex = -1; // 块内索引，等于-1则键块还没加载
+	private Object [][]blockKeyValues;//本块的所有维值
 	private boolean isEnd = false;
 
 	public RecordSeqSearcher(ColPhyTable table) {
@@ -58,7 +58,7 @@ class RecordSeqSearcher {
 			segmentReaders[k] = columns[k].getSegmentReader();
 		}
 		
-		nextBlock();//ȡһ
+		nextBlock();//取出来一块
 	}
 	
 	private boolean nextBlock() {
@@ -79,7 +79,7 @@ class RecordSeqSearcher {
 				maxValues[k] = segmentReaders[k].readObject();
 				segmentReaders[k].skipObject();
 			}
-			//ǶֶάȡһάֵΪmax
+			//如果是多字段维，则取最后一条维值作为max
 			if (keyCount > 1) {
 				loadKeyValues();
 				int idx = blockKeyValues[0].length - 1;
@@ -112,8 +112,8 @@ class RecordSeqSearcher {
 	}
 	
 	/**
-	 *  ֶʱ
-	 * ҵ򷵻ؼ¼ţҲ򷵻ظλ
+	 * 查找 （单字段主键时）
+	 * 如果能找到则返回记录序号，找不到则返回负插入位置
 	 * @param keyValue
 	 * @return
 	 */
@@ -166,8 +166,8 @@ class RecordSeqSearcher {
 	}
 	
 	/**
-	 *  ֶʱ
-	 * ҵ򷵻ؼ¼ţҲ򷵻ظλ
+	 * 查找 （多字段主键时）
+	 * 如果能找到则返回记录序号，找不到则返回负插入位置
 	 * @param keyValues
 	 * @return
 	 */
@@ -200,7 +200,7 @@ class RecordSeqSearcher {
 						}
 					}
 					
-					// 
+					// 都相等
 					curIndex = i;
 					return prevRecordCount + i;
 				}
@@ -7,7 +7,7 @@ import com.scudata.dm.ObjectReader;
 import com.scudata.util.Variant;
 
 /**
- * ¼ ã
+ * 记录查找器 （附表用）
  * @author runqian
  *
  */
@@ -15,8 +15,8 @@ class RecordSeqSearcher2 {
 	private ColPhyTable table;
 	private ColPhyTable baseTable;
 	
-	private long prevRecordCount = 0;//ǰѾȡļ¼
-	private long basePrevRecordCount = 0;//ǰѾȡļ¼
+	private long prevRecordCount = 0;//当前已经取出的记录数
+	private long basePrevRecordCount = 0;//基表当前已经取出的记录数
 	private int curBlock = -1;
 	private int totalBlockCount;
 	
@@ -25,18 +25,18 @@ class RecordSeqSearcher2 {
 	private BlockLinkReader []colReaders;
 	private ObjectReader []segmentReaders;
 	
-	private long []positions; // ǰÿеλ
-	private Object []minValues; // ǰÿеСֵ
-	private Object []maxValues; // ǰÿеֵ
+	private long []positions; // 当前块的每个键列的位置
+	private Object []minValues; // 当前块的每个键列的最小值
+	private Object []maxValues; // 当前块的每个键列的最大值
 	
-	private int curRecordCount = 0; // ǰļ¼
-	private int curIndex = -1; // -1黹û
-	private int baseCurRecordCount = 0; // ǰļ¼
+	private int curRecordCount = 0; // 当前块的记录数
+	private int curIndex = -1; // 块内索引，等于-1则键块还没加载
+	private int baseCurRecordCount = 0; // 主表当前块的记录数
 	private Object [][]blockKeyValues;
 	private boolean isEnd = false;
 	
 	private int baseKeyCount;
-	private ColumnMetaData guideColumn;//
+	private ColumnMetaData guideColumn;//导列
 	private BlockLinkReader guideColReader;
 	private ObjectReader guideSegmentReader;
 	private long guidePosition;
@@ -119,7 +119,7 @@ class RecordSeqSearcher2 {
 			}
 			
 			for (int k = 0; k < baseKeyCount; ++k) {
-				int baseCount = 1;//ָļ¼
+				int baseCount = 1;//指向主表的记录
 				long basePrevRecordCount = this.basePrevRecordCount;
 				BufferReader reader = colReaders[k].readBlockData(positions[k], baseCurRecordCount);
 				Object []vals = new Object[count];
@@ -150,11 +150,11 @@ class RecordSeqSearcher2 {
 	}
 
 	/**
-	 * ҵ򷵻ؼ¼ţҲ򷵻ظλ
-	 * ӱinsertʱ¼ڣӦ÷ضӦα
-	 * ӱupdateʱupdate
+	 * 如果能找到则返回记录序号，找不到则返回负插入位置
+	 * 子表insert时，如果记录存在，还应该返回对应主表列区的伪号
+	 * 子表update时，必须先update主表；
 	 * @param keyValue 
-	 * @param block Ǹblock[0]ҵĿ
+	 * @param block 这是个输出参数。block[0]是找到的块号
 	 * @return
 	 */
 	public long findNext(Object keyValue, int block[]) {
@@ -181,7 +181,7 @@ class RecordSeqSearcher2 {
 					}
 				}
 				
-				//ÿһεĵײλ
+				//每一段的底部位置
 				curIndex = curRecordCount;
 				block[0] = curBlock + 1;
 				return -prevRecordCount - curIndex;
@@ -206,12 +206,12 @@ class RecordSeqSearcher2 {
 	}
 	
 	/**
-	 * ֶĲ
-	 * ҵ򷵻ؼ¼ţҲ򷵻ظλ
-	 * ӱinsertʱ¼ڣӦ÷ضӦα
-	 * ӱupdateʱupdate
+	 * 多字段主键的查找
+	 * 如果能找到则返回记录序号，找不到则返回负插入位置
+	 * 子表insert时，如果记录存在，还应该返回对应主表列区的伪号
+	 * 子表update时，必须先update主表；
 	 * @param keyValue 
-	 * @param block Ǹblock[0]ҵĿ
+	 * @param block 这是个输出参数。block[0]是找到的块号
 	 * @return
 	 */
 	public long findNext(Object []keyValues, int block[]) {
@@ -220,7 +220,7 @@ class RecordSeqSearcher2 {
 			return -prevRecordCount - 1;
 		}
 		if (0 == curRecordCount) {
-			//Ǹտ
+			//如果是个空块
 			int cmp = Variant.compareArrays(keyValues, maxValues, baseKeyCount);
 			if (cmp <= 0) {
 				block[0] = curBlock + 1;
@@ -260,12 +260,12 @@ class RecordSeqSearcher2 {
 						}
 					}
 					
-					// 
+					// 都相等
 					curIndex = i;
 					return prevRecordCount + i;
 				}
 
-				//ÿһεĵײλ
+				//每一段的底部位置
 				curIndex = curRecordCount;
 				block[0] = curBlock + 1;
 				return -prevRecordCount - curIndex;
@@ -299,7 +299,7 @@ class RecordSeqSearcher2 {
 	}
 	
 	/**
-	 * ңزλ
+	 * 查找，不返回插入位置
 	 * @param keyValues
 	 * @param keyLen
 	 * @return
@@ -329,7 +329,7 @@ class RecordSeqSearcher2 {
 						}
 					}
 					
-					// 
+					// 都相等
 					curIndex = i + 1;
 					return prevRecordCount + i;
 				}
@@ -354,7 +354,7 @@ class RecordSeqSearcher2 {
 	}
 	
 	/**
-	 * صǰα
+	 * 返回当前条在主表列区的伪号
 	 * @return
 	 */
 	long getRecNum() {
@@ -10,20 +10,20 @@ import com.scudata.dm.cursor.ICursor;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ¼ֵ
+ * 记录值查找器
  * @author runqian
  *
  */
 class RecordValSearcher {
 	private Cursor cs;
 	private String []fields;
-	private Sequence pkeyData;//ȡ
-	private long recNUM;//ǰα
-	private ComTableRecord curRecord;//ǰ¼
-	private Record curModifyRecord;//ǰ¼
-	private int cur;//
-	private int len;//ǰ
-	private int []index;//ֶȡʱӦλ
+	private Sequence pkeyData;//取数缓存区
+	private long recNUM;//当前伪号
+	private ComTableRecord curRecord;//当前记录
+	private Record curModifyRecord;//当前记录（补区）
+	private int cur;//块内序号
+	private int len;//当前块个数
+	private int []index;//字段取出时对应的位置
 
 	private int indexSize;
 	private ArrayList<ModifyRecord> modifyRecords;
@@ -83,11 +83,11 @@ class RecordValSearcher {
 	}
 
 	/**
-	 * ¼ȡkeyֵ
-	 * filterʱ
-	 * @param recNum ¼
-	 * @param r 
-	 * @return trueɹfalseûҵ
+	 * 按记录号取出key值
+	 * 有filter时用这个
+	 * @param recNum 记录号
+	 * @param r 输出
+	 * @return true成功，false没找到
 	 */
 	public boolean getKeyVals(long recNum, Record r) {
 		ComTableRecord rec;
@@ -128,10 +128,10 @@ class RecordValSearcher {
 	}
 	
 	/**
-	 * ¼ȡkeyֵ
-	 * filterʱΪӱļ¼϶ҵ
-	 * @param recNum ¼
-	 * @param r 
+	 * 按记录号取出key值
+	 * 无filter时用这个，因为子表的记录肯定可以在主表找到
+	 * @param recNum 记录号
+	 * @param r 输出
 	 */
 	public void getKeyValues(long recNum, Record r) {
 		ComTableRecord rec;		
@@ -141,7 +141,7 @@ class RecordValSearcher {
 			while (true) {
 				cur++;
 				if (cur > len) {
-					//쳣
+					//异常
 					MessageManager mm = EngineMessage.get();
 					throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));
 				}
@@ -165,10 +165,10 @@ class RecordValSearcher {
 	}
 
 	/**
-	 * ȡ¼ֵ
-	 * @param recNum ¼ţΪֵʱʾڲ
-	 * @param r 
-	 * @param tableId Ŀǰֻ0
+	 * 取补区记录值
+	 * @param recNum 记录号，为负值时表示的是在补区的序号
+	 * @param r 输出
+	 * @param tableId 目前只可能是0
 	 */
 	public void getMKeyValues(long recNum, Record r,int tableId) {
 		Record record = null;
@@ -205,8 +205,8 @@ class RecordValSearcher {
 	}
 	
 	/**
-	 * õǰ¼ֵ
-	 * @param r 
+	 * 获得当前记录值
+	 * @param r 输出
 	 */
 	public void getRecordValue(Record r) {
 		ComTableRecord rec = curRecord;
@@ -222,8 +222,8 @@ class RecordValSearcher {
 	}
 	
 	/**
-	 * ȡǰ¼ֵֶ
-	 * @param index ֶλ
+	 * 取当前记录的字段值
+	 * @param index 字段位置
 	 * @return
 	 */
 	public Object getRecordValue(int index) {
@@ -231,8 +231,8 @@ class RecordValSearcher {
 	}
 	
 	/**
-	 * ȡǰ¼ֵֶ
-	 * @param index ֶλ
+	 * 取当前补记录的字段值
+	 * @param index 字段位置
 	 * @return
 	 */
 	public Object getModifyRecordValue(int index) {
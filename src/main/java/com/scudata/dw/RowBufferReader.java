@@ -12,15 +12,15 @@ import com.scudata.dm.SerialBytes;
 import com.scudata.dm.Table;
 
 /**
- * дʱĶȡ
+ * 行存时的读取处理类
  * @author runqian
  *
  */
 public class RowBufferReader {
 	private StructManager structManager;
-	private byte[] buffer; // ÿζֽڻ
-	private int index; // һֽbufferе
-	private int count; // bufferʵֽĿ
+	private byte[] buffer; // 每次读入的字节缓存
+	private int index; // 下一字节在buffer中的索引
+	private int count; // 读入buffer的实际字节数目
 
 	private byte[] readBuffer = new byte[32];
 	private char[] charBuffer = new char[128];
@@ -52,7 +52,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * صǰȡλ
+	 * 返回当前读取位置
 	 * @return
 	 */
 	public long position() {
@@ -60,7 +60,7 @@ public class RowBufferReader {
 	}
 	
 	/**
-	 * nֽ,nֽھĩβ
+	 * 跳过n字节,不足n字节就跳到末尾
 	 * @param n
 	 * @throws IOException
 	 */
@@ -75,7 +75,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * nֽ
+	 * 跳过n字节
 	 * @param n
 	 * @throws IOException
 	 */
@@ -93,7 +93,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * nֽ
+	 * 跳过n字节
 	 * @param n
 	 * @throws IOException
 	 */
@@ -111,7 +111,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * Ƿݿɶ
+	 * 是否还有数据可读
 	 * @return
 	 * @throws IOException
 	 */
@@ -120,7 +120,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ʣɶݳ
+	 * 剩余可读数据长度
 	 * @return
 	 * @throws IOException
 	 */
@@ -129,14 +129,14 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ãͷλ
+	 * 重置，跳到开头位置
 	 */
 	public void reset() {
 		index = 0;
 	}
 	
 	/**
-	 * ĩβλ
+	 * 跳到末尾位置
 	 */
 	public void close() throws IOException {
 		index = count;
@@ -155,7 +155,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ȡbĳ
+	 * 读取到数组b，按照数组的长度
 	 * @param b
 	 * @return
 	 * @throws IOException
@@ -165,7 +165,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ȡbָƫƺͳ
+	 * 读取到数组b，按照指定的偏移和长度
 	 * @param b
 	 * @param off
 	 * @param len
@@ -188,7 +188,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ȡbĩβ
+	 * 读取到数组b，会检查末尾
 	 * @param b
 	 */
 	public void readFully(byte []b) throws IOException {
@@ -204,7 +204,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ȡһֽ
+	 * 读取一个字节
 	 * @return
 	 * @throws IOException
 	 */
@@ -213,7 +213,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ȡһ޷ֽ
+	 * 读取一个无符号字节
 	 * @return
 	 * @throws IOException
 	 */
@@ -222,7 +222,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ȡһshort
+	 * 读取一个short
 	 * @return
 	 * @throws IOException
 	 */
@@ -232,7 +232,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ȡһ޷short
+	 * 读取一个无符号short
 	 * @return
 	 * @throws IOException
 	 */
@@ -254,7 +254,7 @@ public class RowBufferReader {
 		int b = read2();
 		if (b == BufferWriter.FLOAT16) {
 			int n = readUInt16();
-			int scale = n >>> 14; // λСλ
+			int scale = n >>> 14; // 高两位存小数位数
 			n &= 0x3FFF;
 
 			if (scale == 0) {
@@ -268,7 +268,7 @@ public class RowBufferReader {
 			}
 		} else if (b == BufferWriter.FLOAT32) {
 			int n = readInt32();
-			int scale = n >>> 30; // λСλ
+			int scale = n >>> 30; // 高两位存小数位数
 			n &= 0x3FFFFFFF;
 
 			if (scale == 0) {
@@ -338,8 +338,8 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ȡɵַ
-	 * @param size 
+	 * 读取数字组成的字符串
+	 * @param size 长度
 	 * @return
 	 * @throws IOException
 	 */
@@ -505,7 +505,7 @@ public class RowBufferReader {
 	}
 	
 	/**
-	 * ȡ5ֽڱʾlong
+	 * 读取5字节表示long
 	 * @return
 	 * @throws IOException
 	 */
@@ -521,7 +521,7 @@ public class RowBufferReader {
 	}
 
 	/**
-	 * ȡ6ֽڱʾlong
+	 * 读取6字节表示long
 	 * @return
 	 * @throws IOException
 	 */
@@ -739,7 +739,7 @@ public class RowBufferReader {
 	}
 	
 	/**
-	 * ȡһ
+	 * 读取一个对象
 	 * @return
 	 * @throws IOException
 	 */
@@ -785,7 +785,7 @@ public class RowBufferReader {
 	}
 	
 	/**
-	 * һ
+	 * 跳过一个对象
 	 * @return
 	 * @throws IOException
 	 */
@@ -870,7 +870,7 @@ public class RowBufferReader {
 	private void skipTable() throws IOException {
 		int fcount = readInt();
 		for (int i = 0; i < fcount; ++i) {
-			readString(); // ֶ
+			readString(); // 跳过字段名
 		}
 
 		int len = readInt();
@@ -882,7 +882,7 @@ public class RowBufferReader {
 	}
 	
 	/**
-	 * صǰĻλ
+	 * 返回当前读到的缓冲区的位置
 	 * @return
 	 */
 	public int getCurPos() {
@@ -12,8 +12,8 @@ import com.scudata.dm.Sequence;
 import com.scudata.dm.SerialBytes;
 
 /**
- * дʱд
- * ѹֵͬ
+ * 行存时写出类
+ * 不压缩同值
  * @author runqian
  *
  */
@@ -46,18 +46,18 @@ public class RowBufferWriter {
 	static final int RECORD = 0x25;
 
 	static final int MARK3 = 0x30;
-	static final int DATE16 = 0x30; // 2000֮
-	static final int DATE32 = 0x31; // 2000֮ǰ
+	static final int DATE16 = 0x30; // 2000年之后的日期
+	static final int DATE32 = 0x31; // 2000年之前的日期
 	static final int TIME16 = 0x32;
 	static final int TIME17 = 0x33;
 	static final int DATETIME32 = 0x34;
 	static final int DATETIME33 = 0x35;
 	static final int DATETIME64 = 0x36;
 	static final int TIME32 = 0x37;
-	static final int DATE24 = 0x38; // 2000֮
-	static final int DATE64 = 0x39; // ʾ˶64λ
+	static final int DATE24 = 0x38; // 2000年之后的日期
+	static final int DATE64 = 0x39; // 超界表示不了都得日期用64位保存
 
-	static final int SERIALBYTES = 0x40; // ź
+	static final int SERIALBYTES = 0x40; // 排号
 
 	static final int INT4 = 0x80;
 	static final int INT12 = 0x90;
@@ -71,7 +71,7 @@ public class RowBufferWriter {
 	private static final double MINFLOAT = 0.000001;
 	private static final int MAX_DIGIT_LEN = 30;
 
-	static final long BASEDATE; // 1992֮ǰеڲܱ86400000
+	static final long BASEDATE; // 1992年之前有的日期不能被86400000整除
 	static final long BASETIME;
 	static {
 		java.util.Calendar calendar = java.util.Calendar.getInstance();
@@ -85,8 +85,8 @@ public class RowBufferWriter {
 
 	static final int INIT_BUFFER_SIZE = 1024 * 64;
 	
-	private byte []buf; // д
-	private int count = 0;//дĳ
+	private byte []buf; // 写缓冲区
+	private int count = 0;//写入的长度
 	private StructManager structManager;
 
 	public RowBufferWriter(StructManager structManager) {
@@ -100,7 +100,7 @@ public class RowBufferWriter {
 	}
 
 	/**
-	 * дؽֽ
+	 * 结束写，返回结果字节数组
 	 * @return
 	 * @throws IOException
 	 */
@@ -115,21 +115,21 @@ public class RowBufferWriter {
 	}
 	
 	/**
-	 * дݣصͷλ
+	 * 放弃写入的内容，回到开头位置
 	 */
 	public void reset() {
 		count = 0;
 	}
 	
 	/**
-	 * ݻ
+	 * 扩容缓冲区
 	 */
 	private void enlargeBuffer() {
 		buf = Arrays.copyOf(buf, buf.length << 1);
 	}
 	
 	/**
-	 * ָСݻ
+	 * 按指定大小扩容缓冲区
 	 * @param newLen
 	 */
 	private void enlargeBuffer(int newLen) {
@@ -137,7 +137,7 @@ public class RowBufferWriter {
 	}
 	
 	/**
-	 * дһֽ
+	 * 写入一个字节
 	 * @param b
 	 * @throws IOException
 	 */
@@ -150,7 +150,7 @@ public class RowBufferWriter {
 	}
 
 	/**
-	 * дһֽ
+	 * 写入一个字节数组
 	 * @param b
 	 * @throws IOException
 	 */
@@ -159,10 +159,10 @@ public class RowBufferWriter {
 	}
 
 	/**
-	 * дһֽ
-	 * @param b 
-	 * @param off ƫ
-	 * @param len 
+	 * 写入一个字节数组
+	 * @param b 数组
+	 * @param off 偏移
+	 * @param len 长度
 	 * @throws IOException
 	 */
 	public void write(byte b[], int off, int len) throws IOException {
@@ -175,7 +175,7 @@ public class RowBufferWriter {
 	}
 
 	/**
-	 * дһֽ
+	 * 写入一个字节
 	 * @param v
 	 * @throws IOException
 	 */
@@ -226,7 +226,7 @@ public class RowBufferWriter {
 	}
 
 	/**
-	 * дһֽ NULL
+	 * 写入一个字节数组 （可以是NULL）
 	 * @param v 
 	 * @throws IOException
 	 */
@@ -252,7 +252,7 @@ public class RowBufferWriter {
 	}
 
 	/**
-	 * ǷǳСڵ32ִ
+	 * 是否是长度小于等于32的数字串
 	 * @param charr
 	 * @param len
 	 * @return
@@ -268,7 +268,7 @@ public class RowBufferWriter {
 	}
 
 	/**
-	 * д볤Сڵ32ִ
+	 * 写入长度小于等于32的数字串
 	 * @param charr
 	 * @param len
 	 * @throws IOException
@@ -499,7 +499,7 @@ public class RowBufferWriter {
 		write(n & 0xFF);
 	}
 	
-	// 5ֽڱʾlongļСҪ󲻳1T
+	// 5字节表示long，单文件大小要求不超1T
 	public void writeLong40(long v) throws IOException {
 		if (buf.length - count < 5) {
 			enlargeBuffer();
@@ -515,7 +515,7 @@ public class RowBufferWriter {
 		count = seq;
 	}
 	
-	// 6ֽڱʾlongļСҪ󲻳256Tھļλݵı
+	// 6字节表示long，单文件大小要求不超256T，仅共数据挖掘表，文件定位数据的保存
 	public void writeLong48(long v) throws IOException {
 		if (buf.length - count < 6) {
 			enlargeBuffer();
@@ -610,7 +610,7 @@ public class RowBufferWriter {
 	private void writeDate(java.sql.Date date) throws IOException {
 		long v = date.getTime();
 		if (v >= BASEDATE) {
-			// ȷ
+			// 精确到天
 			int d = (int)((v - BASEDATE) / 86400000);
 			if (d > 0xFFFF) {
 				if (d > 0xFFFFFF) {
@@ -628,7 +628,7 @@ public class RowBufferWriter {
 				write(d & 0xFF);
 			}
 		} else {
-			// ȷ
+			// 精确到秒
 			long d = (BASEDATE - v) / 1000;
 			if (d > 0xFFFFFFFFL) {
 				write(DATE64);
@@ -755,7 +755,7 @@ public class RowBufferWriter {
 			writeBytes((byte[])obj);
 		} else if (obj instanceof SerialBytes) {
 			SerialBytes sb = (SerialBytes)obj;
-			// ȹ̶16
+			// 长度固定是16
 			write(SERIALBYTES);
 			writeLong64(sb.getValue1());
 			writeLong64(sb.getValue2());
@@ -803,7 +803,7 @@ public class RowBufferWriter {
 			write(0);
 		} else if (obj instanceof SerialBytes) {
 			SerialBytes sb = (SerialBytes)obj;
-			// ȹ̶16
+			// 长度固定是16
 			write(SERIALBYTES);
 			writeLong64(sb.getValue1());
 			writeLong64(sb.getValue2());
@@ -13,14 +13,14 @@ import com.scudata.dm.Env;
 import com.scudata.resources.EngineMessage;
 
 /**
- * д
+ * 行存组表类
  * @author runqian
  *
  */
 public class RowComTable extends ComTable {
 
 	/**
-	 * Ѿڵ
+	 * 打开已经存在的组表
 	 * @param file
 	 * @param ctx
 	 * @throws IOException
@@ -35,7 +35,7 @@ public class RowComTable extends ComTable {
 	}
 	
 	/**
-	 * Ѿڵ,־ڲʹ
+	 * 打开已经存在的组表,不检查出错日志，仅内部使用
 	 * @param file
 	 * @throws IOException
 	 */
@@ -46,19 +46,19 @@ public class RowComTable extends ComTable {
 	}
 	
 	/**
-	 * 
-	 * @param file ļ
-	 * @param colNames 
-	 * @param distribute ֲ
-	 * @param opt pһֶηֶ
-	 * @param ctx 
+	 * 创建组表
+	 * @param file 表文件
+	 * @param colNames 列名称
+	 * @param distribute 分布
+	 * @param opt p：按第一字段分段
+	 * @param ctx 上下文
 	 * @throws IOException
 	 */
 	public RowComTable(File file, String []colNames, String distribute, String opt, Context ctx) throws IOException {
 		file.delete();
 		File parent = file.getParentFile();
 		if (parent != null) {
-			// Ŀ¼Ŀ¼RandomAccessFile쳣
+			// 创建目录，否则如果目录不存在RandomAccessFile会抛异常
 			parent.mkdirs();
 		}
 
@@ -75,7 +75,7 @@ public class RowComTable extends ComTable {
 		baseTable = new RowPhyTable(this, colNames);
 		structManager = new StructManager();
 		
-		// һֶηֶ
+		// 按第一字段分段
 		if (opt != null && opt.indexOf('p') != -1) {
 			baseTable.segmentCol = baseTable.getColName(0);
 		}
@@ -85,9 +85,9 @@ public class RowComTable extends ComTable {
 	}
 	
 	/**
-	 * srcĽṹһļ
-	 * @param file ±ļ
-	 * @param src ԭ
+	 * 复制src的结构创建一个新组表文件
+	 * @param file 新表的文件
+	 * @param src 原组表
 	 * @throws IOException
 	 */
 	public RowComTable(File file, RowComTable src) throws IOException {
@@ -123,7 +123,7 @@ public class RowComTable extends ComTable {
 	}
 
 	/**
-	 * ´ļ޸
+	 * 重新打开组表，文件被其它对象修改
 	 * @throws IOException
 	 */
 	protected void reopen() throws IOException {
@@ -159,7 +159,7 @@ public class RowComTable extends ComTable {
 			blockSize = reader.readInt32();
 			headerBlockLink.readExternal(reader);
 			
-			reader.read(reserve); // λ
+			reader.read(reserve); // 保留位
 			freePos = reader.readLong40();
 			fileSize = reader.readLong40();
 			
@@ -193,8 +193,8 @@ public class RowComTable extends ComTable {
 	}
 	
 	/**
-	 * ȡļͷ
-	 * ޸ĶдʱҪͬ޸reopen
+	 * 读取文件头
+	 * 修改读写时需要同步修改reopen函数
 	 */
 	protected void readHeader() throws IOException {
 		Object syncObj = getSyncObject();
@@ -228,7 +228,7 @@ public class RowComTable extends ComTable {
 			blockSize = reader.readInt32();
 			headerBlockLink.readExternal(reader);
 			
-			reader.read(reserve); // λ
+			reader.read(reserve); // 保留位
 			freePos = reader.readLong40();
 			fileSize = reader.readLong40();
 			
@@ -262,7 +262,7 @@ public class RowComTable extends ComTable {
 	}
 	
 	/**
-	 * дļͷ
+	 * 写文件头
 	 */
 	protected void writeHeader() throws IOException {
 		Object syncObj = getSyncObject();
@@ -280,17 +280,17 @@ public class RowComTable extends ComTable {
 			writer.writeInt32(blockSize);
 			headerBlockLink.writeExternal(writer);
 			
-			reserve[0] = 3; // 1룬2ӷֲ3Ԥ
-			writer.write(reserve); // λ
+			reserve[0] = 3; // 1增加密码，2增加分布函数，3增加预分组
+			writer.write(reserve); // 保留位
 			
 			writer.writeLong40(freePos);
 			writer.writeLong40(fileSize);
 			
-			// Ա汾1ӵ
+			// 下面两个成员版本1增加的
 			writer.writeString(writePswHash);
 			writer.writeString(readPswHash);
 			
-			writer.writeString(distribute); // 汾2
+			writer.writeString(distribute); // 版本2增加
 	
 			ArrayList<DataStruct> dsList = structManager.getStructList();
 			if (dsList != null) {
@@ -310,7 +310,7 @@ public class RowComTable extends ComTable {
 			headerWriter.close();
 			//headerWriter.finishWrite();
 			
-			// дheaderBlockLink
+			// 重写headerBlockLink
 			writer.write('r');
 			writer.write('q');
 			writer.write('d');
@@ -329,7 +329,7 @@ public class RowComTable extends ComTable {
 	}
 	
 	/**
-	 * Ϣ,headerͲ
+	 * 获得区块链信息,不包含组表header和补区
 	 */
 	public long[] getBlockLinkInfo() {
 		int count = 1 + baseTable.tableList.size();
@@ -40,48 +40,48 @@ import com.scudata.expression.operator.Smaller;
 import com.scudata.resources.EngineMessage;
 
 /**
- * дα
+ * 行存基表的游标类
  * @author runqian
  *
  */
 public class RowCursor extends IDWCursor {
-	private RowPhyTable table;//ԭ
-	private String []fields;//ȡֶ
-	private DataStruct ds;//ݽṹ
-	private String []sortedFields;//ֶ
-	private Expression filter;//˱ʽ
+	private RowPhyTable table;//原表
+	private String []fields;//取出字段
+	private DataStruct ds;//数据结构
+	private String []sortedFields;//有序字段
+	private Expression filter;//过滤表达式
 	
 	private BlockLinkReader rowReader;
 	private ObjectReader segmentReader;
 	
-	private int startBlock; // 
-	private int endBlock; // 
-	private int curBlock = 0;//ǰ
-	private Sequence cache;//
+	private int startBlock; // 包含
+	private int endBlock; // 不包含
+	private int curBlock = 0;//当前块号
+	private Sequence cache;//缓存区
 	
-	private long prevRecordSeq = 0; // ǰһ¼
-	private int []findex; // ѡֶζӦֶκ
-	boolean needRead[];//Ҫ
-	private boolean []isMyCol;//ǷǼֶ̳
-	ArrayList<ModifyRecord> modifyRecords;//¼
+	private long prevRecordSeq = 0; // 前一条记录的序号
+	private int []findex; // 选出字段对应的字段号
+	boolean needRead[];//需要读出来的列
+	private boolean []isMyCol;//是否是继承字段
+	ArrayList<ModifyRecord> modifyRecords;//补区记录
 	private int mindex = 0;
 	
 	private boolean isClosed = false;
 	private boolean isFirstSkip = true;
 	private boolean isSegment = false;
-	private Expression []exps;//ʽֶ
-	private TableGather []gathers;//ȡf()
-	private String []names;//ȡ
+	private Expression []exps;//表达式字段
+	private TableGather []gathers;//从其它附表取f()
+	private String []names;//取出名
 	private boolean isField[];
 	private DataStruct tempDs;
 	
-	//ʹ
+	//附表使用
 	private RowPhyTable baseTable;
 	private BlockLinkReader baseRowReader;
 	private ObjectReader baseSegmentReader;
 	private ArrayList<ModifyRecord> baseModifyRecords;
-	private boolean isPrimaryTable; // Ƿ
-	private boolean fetchByBlock = false;//ȡ
+	private boolean isPrimaryTable; // 是否主表
+	private boolean fetchByBlock = false;//按块读取
 	
 	private IFilter []filters;
 	
@@ -114,7 +114,7 @@ public class RowCursor extends IDWCursor {
 		this.filter = filter;
 		
 		if (fields == null && exps != null) {
-			//fieldsڣұʽexpsڣΪexpsȡ
+			//如果fields不存在，且表达式exps存在，则认为exps是取出
 			int colCount = exps.length;
 			fields = new String[colCount];
 			int cnt = 0;
@@ -163,7 +163,7 @@ public class RowCursor extends IDWCursor {
 	}
 	
 	/**
-	 * ÷ֶstartBlockendBlock
+	 * 设置分段startBlock包含，endBlock不包含
 	 */
 	public void setSegment(int startBlock, int endBlock) {
 		isSegment = true;
@@ -243,7 +243,7 @@ public class RowCursor extends IDWCursor {
 	}
 
 	/**
-	 * ݼڵõ
+	 * 根据计算节点得到相关列
 	 * @param table
 	 * @param node
 	 * @return
@@ -284,7 +284,7 @@ public class RowCursor extends IDWCursor {
 	}
 
 	/**
-	 * ϲΪһ  
+	 * 把两个计算合并为一个 与 运算
 	 * @param node
 	 * @param left
 	 * @param right
@@ -398,7 +398,7 @@ public class RowCursor extends IDWCursor {
 	}
 	
 	/**
-	 * ϲΪһ  
+	 * 把两个计算合并为一个 或 运算
 	 * @param node
 	 * @param left
 	 * @param right
@@ -449,7 +449,7 @@ public class RowCursor extends IDWCursor {
 	}
 
 	/**
-	 * ˱ʽȡܵй
+	 * 解析过滤表达式，提取可能的列过滤器
 	 * @param table
 	 * @param exp
 	 * @param ctx
@@ -490,14 +490,14 @@ public class RowCursor extends IDWCursor {
 			ArrayList<ModifyRecord> modifyRecords = table.getModifyRecords();
 			if (modifyRecords != null || exps != null) {
 			} else {
-				//ĿǰֻŻûвûбʽ
+				//目前只优化没有补区和没有表达式的情况
 				filters = ((ColumnsOr)obj).toArray();
 			}
 		}
 	}
 	
 	/**
-	 * ȡcontain Not containʽй
+	 * 提取contain和 Not contain表达式的列过滤器
 	 * @param table
 	 * @param node
 	 * @param ctx
@@ -607,7 +607,7 @@ public class RowCursor extends IDWCursor {
 	}
 	
 	/**
-	 * ȡй
+	 * 提取列过滤器
 	 * @param table
 	 * @param node
 	 * @param ctx
@@ -679,7 +679,7 @@ public class RowCursor extends IDWCursor {
 	}
 	
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		try {
@@ -688,7 +688,7 @@ public class RowCursor extends IDWCursor {
 			throw new RQException(e);
 		}
 		
-		// 鲻ʶıʽǷûѡֶΣ뵽ѡֶ
+		// 检查不可识别的表达式里是否引用了没有选出的字段，如果引用了则加入到选出字段里
 		Expression filter = this.filter;
 		if (filter != null) {
 			ArrayList<String> colList = new ArrayList<String>();
@@ -769,7 +769,7 @@ public class RowCursor extends IDWCursor {
 		modifyRecords = table.getModifyRecords();
 		DataStruct srcDs = table.getDataStruct();
 		int allCount = table.getAllColNames().length;
-		needRead = new boolean[allCount];//Ҫ
+		needRead = new boolean[allCount];//需要读的列
 		findex = new int[colCount];
 		for (int i = 0; i < colCount; ++i) {
 			 int id = srcDs.getFieldIndex(fields[i]);
@@ -787,7 +787,7 @@ public class RowCursor extends IDWCursor {
 			baseSegmentReader = baseTable.getSegmentObjectReader();
 			baseModifyRecords = baseTable.getModifyRecords();
 			
-			//index
+			//获得在主表里的index
 			srcDs = baseTable.getDataStruct();
 			for (int i = 0; i < colCount; ++i) {
 				 int id = srcDs.getFieldIndex(fields[i]);
@@ -864,7 +864,7 @@ public class RowCursor extends IDWCursor {
 		}
 		
 		if (table.hasPrimaryKey()) {
-			// ѡݽṹ
+			// 如果附表有主键并且主键被选出则给数据结构设上主键
 			String []keys = table.getAllSortedColNames();
 			ArrayList<String> pkeyList = new ArrayList<String>();
 			ArrayList<String> sortedFieldList = new ArrayList<String>();
@@ -887,7 +887,7 @@ public class RowCursor extends IDWCursor {
 			}
 			
 			if (sign) {
-				//
+				//有主键
 				int size = pkeyList.size();
 				String[] pkeys = new String[size];
 				pkeyList.toArray(pkeys);
@@ -895,12 +895,12 @@ public class RowCursor extends IDWCursor {
 			}
 			int size = sortedFieldList.size();
 			if (size > 0) {
-				//ֶ
+				//有序字段
 				sortedFields = new String[size];
 				sortedFieldList.toArray(sortedFields);
 			}
 		} else if (table.isSorted) {
-			// ֶ֯
+			// 如果附表有序则组织有序字段
 			String []keys = table.getAllSortedColNames();
 			ArrayList<String> sortedFieldList = new ArrayList<String>();
 			DataStruct temp;
@@ -919,7 +919,7 @@ public class RowCursor extends IDWCursor {
 			}
 			int size = sortedFieldList.size();
 			if (size > 0) {
-				//ֶ
+				//有序字段
 				sortedFields = new String[size];
 				sortedFieldList.toArray(sortedFields);
 			}
@@ -1056,10 +1056,10 @@ public class RowCursor extends IDWCursor {
 				if (recordCount > diff) {
 					int i = 0;
 					for (; i < diff; ++i) {
-						//һ
-						long recNum = (Long) bufReader.readObject();//α
+						//读出来一整行
+						long recNum = (Long) bufReader.readObject();//跳过伪号
 						if (!isPrimaryTable) {
-							seq = (Long) bufReader.readObject();//α
+							seq = (Long) bufReader.readObject();//导列伪号
 						}
 						for (int f = 0; f < allCount; ++f) {
 							if (f >= baseKeyCount) {
@@ -1072,10 +1072,10 @@ public class RowCursor extends IDWCursor {
 						}
 
 						if (!isPrimaryTable) {
-							//ҶӦ
+							//主表里找对应的
 							while (seq != baseSeq) {
 								baseSeq = (Long) baseBufReader.readObject();
-								//ҵ˶
+								//找到了读出来
 								for (int k = 0; k < baseAllCount; ++k) {
 									baseValues[k] = baseBufReader.readObject();
 								}
@@ -1083,7 +1083,7 @@ public class RowCursor extends IDWCursor {
 							}
 						}
 						
-						//ȡֶɼ¼
+						//用取出字段组成记录
 						ComTableRecord r = new ComTableRecord(ds);
 						if (exps != null) {
 							temp.setStart(0, values);
@@ -1136,10 +1136,10 @@ public class RowCursor extends IDWCursor {
 					mems = tmp.getMems();
 					
 					for (; i < recordCount; ++i) {
-						//һ
-						long recNum = (Long) bufReader.readObject();//α
+						//读出来一整行
+						long recNum = (Long) bufReader.readObject();//跳过伪号
 						if (!isPrimaryTable) {
-							seq = (Long) bufReader.readObject();//α
+							seq = (Long) bufReader.readObject();//导列伪号
 						}
 						for (int f = 0; f < allCount; ++f) {
 							if (f >= baseKeyCount) {
@@ -1152,10 +1152,10 @@ public class RowCursor extends IDWCursor {
 						}
 
 						if (!isPrimaryTable) {
-							//ҶӦ
+							//主表里找对应的
 							while (seq != baseSeq) {
 								baseSeq = (Long) baseBufReader.readObject();
-								//ҵ˶
+								//找到了读出来
 								for (int k = 0; k < baseAllCount; ++k) {
 									baseValues[k] = baseBufReader.readObject();
 								}
@@ -1163,7 +1163,7 @@ public class RowCursor extends IDWCursor {
 							}
 						}
 						
-						//ȡֶɼ¼
+						//用取出字段组成记录
 						ComTableRecord r = new ComTableRecord(ds);
 						if (exps != null) {
 							temp.setStart(0, values);
@@ -1214,10 +1214,10 @@ public class RowCursor extends IDWCursor {
 					break;
 				} else {
 					for (int i = 0; i < recordCount; ++i) {
-						//һ
-						long recNum = (Long) bufReader.readObject();//α
+						//读出来一整行
+						long recNum = (Long) bufReader.readObject();//跳过伪号
 						if (!isPrimaryTable) {
-							seq = (Long) bufReader.readObject();//α
+							seq = (Long) bufReader.readObject();//导列伪号
 						}
 						for (int f = 0; f < allCount; ++f) {
 								if (f >= baseKeyCount) {
@@ -1230,10 +1230,10 @@ public class RowCursor extends IDWCursor {
 						}
 
 						if (!isPrimaryTable) {
-							//ҶӦ
+							//主表里找对应的
 							while (seq != baseSeq) {
 								baseSeq = (Long) baseBufReader.readObject();
-								//ҵ˶
+								//找到了读出来
 								for (int k = 0; k < baseAllCount; ++k) {
 									baseValues[k] = baseBufReader.readObject();
 								}
@@ -1241,7 +1241,7 @@ public class RowCursor extends IDWCursor {
 							}
 						}
 						
-						//ȡֶɼ¼
+						//用取出字段组成记录
 						ComTableRecord r = new ComTableRecord(ds);
 						if (exps != null) {
 							temp.setStart(0, values);
@@ -1308,7 +1308,7 @@ public class RowCursor extends IDWCursor {
 	}
 	
 	/**
-	 * вʱȡ
+	 * 有补区时的取数
 	 * @param n
 	 * @return
 	 */
@@ -1398,10 +1398,10 @@ public class RowCursor extends IDWCursor {
 				for (int i = 0; i < recordCount; ++i) {
 					prevRecordSeq++;
 					if (prevRecordSeq != mseq) {
-						//һ
-						bufReader.skipObject();//α
+						//读出来一整行
+						bufReader.skipObject();//跳过伪号
 						if (!isPrimaryTable) {
-							guideSeq = (Long) bufReader.readObject();//α
+							guideSeq = (Long) bufReader.readObject();//导列伪号
 						}
 						for (int f = 0; f < allCount; ++f) {
 							if (f >= baseKeyCount) {
@@ -1410,10 +1410,10 @@ public class RowCursor extends IDWCursor {
 						}
 						
 						if (!isPrimaryTable) {
-							//ҶӦ
+							//主表里找对应的
 							while (guideSeq != baseSeq) {
 								baseSeq = (Long) baseBufReader.readObject();
-								//ҵ˶
+								//找到了读出来
 								for (int k = 0; k < baseAllCount; ++k) {
 									baseValues[k] = baseBufReader.readObject();
 								}
@@ -1421,7 +1421,7 @@ public class RowCursor extends IDWCursor {
 							}
 						}
 						
-						//ȡֶɼ¼
+						//用取出字段组成记录
 						ComTableRecord r = new ComTableRecord(ds);
 						if (!isPrimaryTable) {
 							for (int f = 0; f < colCount; ++f) {
@@ -1444,12 +1444,12 @@ public class RowCursor extends IDWCursor {
 						}
 						mems.add(r);
 					} else {
-						bufReader.skipObject();//α
+						bufReader.skipObject();//跳过伪号
 						if (!isPrimaryTable) {
-							guideSeq = (Long) bufReader.readObject();//α
+							guideSeq = (Long) bufReader.readObject();//导列伪号
 						}
 						
-						// ܲ
+						// 可能插入多条
 						boolean isInsert = true;
 						while (true) {
 							if (mr.isDelete()) {
@@ -1473,10 +1473,10 @@ public class RowCursor extends IDWCursor {
 										seq = guideSeq;
 									}
 									if (seq > 0) {
-										//ҶӦ
+										//主表里找对应的
 										while (seq != baseSeq) {
 											baseSeq = (Long) baseBufReader.readObject();
-											//ҵ˶
+											//找到了读出来
 											for (int k = 0; k < baseAllCount; ++k) {
 												baseValues[k] = baseBufReader.readObject();
 											}
@@ -1492,7 +1492,7 @@ public class RowCursor extends IDWCursor {
 										}
 										
 									} else {
-										//ҶӦ
+										//主表补区里找对应的
 										seq = -seq - 1;
 										Object []vals = baseModifyRecords.get((int) seq).getRecord().getFieldValues();
 										for (int f = 0; f < colCount; ++f) {
@@ -1507,10 +1507,10 @@ public class RowCursor extends IDWCursor {
 
 								if (isInsert) {
 									if (isPrimaryTable) {
-										r.setRecordSeq(-mindex);//Ƿز
+										r.setRecordSeq(-mindex);//主表就是返回补区的序号
 									} else {
-										//keyֵ
-										r.setRecordSeq(mr.getParentRecordSeq());//ҲǸֵʾĲ
+										//根据key值找
+										r.setRecordSeq(mr.getParentRecordSeq());//这里也可能是个负值，表示在主表的补区
 									}
 								} else {
 									if (isPrimaryTable) {
@@ -1536,7 +1536,7 @@ public class RowCursor extends IDWCursor {
 						}
 						
 						if (isInsert) {
-							//һ
+							//读出来一整行
 							for (int f = 0; f < allCount; ++f) {
 								if (f >= baseKeyCount) {
 									values[f] = bufReader.readObject();
@@ -1544,17 +1544,17 @@ public class RowCursor extends IDWCursor {
 							}
 							
 							if (!isPrimaryTable) {
-								//ҶӦ
+								//主表里找对应的
 								while (guideSeq != baseSeq) {
 									baseSeq = (Long) baseBufReader.readObject();
-									//ҵ˶
+									//找到了读出来
 									for (int k = 0; k < baseAllCount; ++k) {
 										baseValues[k] = baseBufReader.readObject();
 									}
 								}
 							}
 							
-							//ȡֶɼ¼
+							//用取出字段组成记录
 							ComTableRecord r = new ComTableRecord(ds);
 							if (!isPrimaryTable) {
 								for (int f = 0; f < colCount; ++f) {
@@ -1613,7 +1613,7 @@ public class RowCursor extends IDWCursor {
 	}
 
 	/**
-	 * ֶαʽʱвʱȡ
+	 * 有字段表达式时且有补区时的取数
 	 * @param n
 	 * @return
 	 */
@@ -1714,10 +1714,10 @@ public class RowCursor extends IDWCursor {
 				for (int i = 0; i < recordCount; ++i) {
 					prevRecordSeq++;
 					if (prevRecordSeq != mseq) {
-						//һ
-						bufReader.skipObject();//α
+						//读出来一整行
+						bufReader.skipObject();//跳过伪号
 						if (!isPrimaryTable) {
-							guideSeq = (Long) bufReader.readObject();//α
+							guideSeq = (Long) bufReader.readObject();//导列伪号
 						}
 						for (int f = 0; f < allCount; ++f) {
 							if (f >= baseKeyCount) {
@@ -1726,10 +1726,10 @@ public class RowCursor extends IDWCursor {
 						}
 						
 						if (!isPrimaryTable) {
-							//ҶӦ
+							//主表里找对应的
 							while (guideSeq != baseSeq) {
 								baseSeq = (Long) baseBufReader.readObject();
-								//ҵ˶
+								//找到了读出来
 								for (int k = 0; k < baseAllCount; ++k) {
 									baseValues[k] = baseBufReader.readObject();
 								}
@@ -1737,7 +1737,7 @@ public class RowCursor extends IDWCursor {
 							}
 						}
 						
-						//ȡֶɼ¼
+						//用取出字段组成记录
 						ComTableRecord r = new ComTableRecord(ds);
 						temp.setStart(0, values);
 						if (!isPrimaryTable) {
@@ -1769,7 +1769,7 @@ public class RowCursor extends IDWCursor {
 						}
 						mems.add(r);
 					} else {
-						// ܲ
+						// 可能插入多条
 						boolean isInsert = true;
 						while (true) {
 							if (mr.isDelete()) {
@@ -1798,10 +1798,10 @@ public class RowCursor extends IDWCursor {
 								} else {
 									long seq = mr.getParentRecordSeq();
 									if (seq > 0) {
-										//ҶӦ
+										//主表里找对应的
 										while (seq != baseSeq) {
 											baseSeq = (Long) baseBufReader.readObject();
-											//ҵ˶
+											//找到了读出来
 											for (int k = 0; k < baseAllCount; ++k) {
 												baseValues[k] = baseBufReader.readObject();
 											}
@@ -1819,7 +1819,7 @@ public class RowCursor extends IDWCursor {
 										}
 										
 									} else {
-										//ҶӦ
+										//主表补区里找对应的
 										seq = -seq - 1;
 										Object []vals = baseModifyRecords.get((int) seq).getRecord().getFieldValues();
 										for (int f = 0; f < colCount; ++f) {
@@ -1836,10 +1836,10 @@ public class RowCursor extends IDWCursor {
 
 								if (isInsert) {
 									if (isPrimaryTable) {
-										r.setRecordSeq(-mindex);//Ƿز
+										r.setRecordSeq(-mindex);//主表就是返回补区的序号
 									} else {
-										//keyֵ
-										r.setRecordSeq(mr.getParentRecordSeq());//ҲǸֵʾĲ
+										//根据key值找
+										r.setRecordSeq(mr.getParentRecordSeq());//这里也可能是个负值，表示在主表的补区
 									}
 								} else {
 									if (isPrimaryTable) {
@@ -1865,10 +1865,10 @@ public class RowCursor extends IDWCursor {
 						}
 						
 						if (isInsert) {
-							//һ
-							long recNum = bufReader.readLong();//α
+							//读出来一整行
+							long recNum = bufReader.readLong();//跳过伪号
 							if (!isPrimaryTable) {
-								guideSeq = (Long) bufReader.readObject();//α
+								guideSeq = (Long) bufReader.readObject();//导列伪号
 							}
 							for (int f = 0; f < allCount; ++f) {
 								if (f >= baseKeyCount) {
@@ -1877,17 +1877,17 @@ public class RowCursor extends IDWCursor {
 							}
 							
 							if (!isPrimaryTable) {
-								//ҶӦ
+								//主表里找对应的
 								while (guideSeq != baseSeq) {
 									baseSeq = (Long) baseBufReader.readObject();
-									//ҵ˶
+									//找到了读出来
 									for (int k = 0; k < baseAllCount; ++k) {
 										baseValues[k] = baseBufReader.readObject();
 									}
 								}
 							}
 							
-							//ȡֶɼ¼
+							//用取出字段组成记录
 							ComTableRecord r = new ComTableRecord(ds);
 							temp.setStart(0, values);
 							if (!isPrimaryTable) {
@@ -1919,9 +1919,9 @@ public class RowCursor extends IDWCursor {
 							}
 							mems.add(r);
 						} else {
-							bufReader.skipObject();//α
+							bufReader.skipObject();//跳过伪号
 							if (!isPrimaryTable) {
-								bufReader.skipObject();//α
+								bufReader.skipObject();//跳过导列伪号
 							}
 							for (int f = 0; f < allCount; ++f) {
 								if (f >= baseKeyCount) {
@@ -2021,7 +2021,7 @@ public class RowCursor extends IDWCursor {
 	}
 	
 	/**
-	 * Բļ¼
+	 * 对补区的记录过滤
 	 * @param seq
 	 * @param modifyRecords
 	 * @param vals
@@ -2050,7 +2050,7 @@ public class RowCursor extends IDWCursor {
 	}
 	
 	/**
-	 * Ϊȡһαضȡһм¼
+	 * 设置为按块取出（一次必定取完一块里的所有记录）
 	 * @param fetchByBlock
 	 */
 	public void setFetchByBlock(boolean fetchByBlock) {
@@ -2071,7 +2071,7 @@ public class RowCursor extends IDWCursor {
 	}
 	
 	protected Sequence getStartBlockData(int n) {
-		// ֻȡһļ¼һûľͷ
+		// 只取第一块的记录，如果第一块没有满足条件的就返回
 		int startBlock = this.startBlock;
 		int endBlock = this.endBlock;
 		try {
@@ -34,26 +34,26 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * д
+ * 行存基表类
  * @author runqian
  *
  */
 public class RowPhyTable extends PhyTable {
-	protected transient String []sortedColNames; // ֶ(άֶ)
-	private transient String []allSortedColNames; // ֶ(άֶ) 
-	protected transient String []allKeyColNames; // keyֶ
-	protected BlockLink dataBlockLink; // п
+	protected transient String []sortedColNames; // 排序字段(维字段)
+	private transient String []allSortedColNames; // 排序字段(维字段) 含主表
+	protected transient String []allKeyColNames; // key字段
+	protected BlockLink dataBlockLink; // 行块区块链
 
 	protected transient BlockLinkWriter colWriter;
 	protected transient ObjectWriter objectWriter;
-	protected int sortedColStartIndex;////άֶθ
+	protected int sortedColStartIndex;////主表的维字段个数
 	
-	protected boolean[] isDim;//Ƿάֶ
-	protected boolean[] isKey;//Ƿkeyֶ
-	protected int []serialBytesLen;//ÿеźųȣ0ʾź
+	protected boolean[] isDim;//是否是维字段
+	protected boolean[] isKey;//是否是key字段
+	protected int []serialBytesLen;//每个列的排号长度，0表示不是排号类型
 	
 	/**
-	 * л
+	 * 用于序列化
 	 * @param groupTable
 	 */
 	public RowPhyTable(ComTable groupTable) {
@@ -65,7 +65,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * л
+	 * 用于序列化
 	 * @param groupTable
 	 * @param parent
 	 */
@@ -79,13 +79,13 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ½
+	 * 新建基表
 	 * @param groupTable
 	 * @param colNames
 	 * @throws IOException
 	 */
 	public RowPhyTable(ComTable groupTable, String []colNames) throws IOException {
-		// 飬ļʱӰ쵽Ĵ
+		// 创建新数组，否则文件组时可能影响到其它分区组表的创建
 		String []tmp = new String[colNames.length];
 		System.arraycopy(colNames, 0, tmp, 0, colNames.length);
 		colNames = tmp;
@@ -102,9 +102,9 @@ public class RowPhyTable extends PhyTable {
 		isKey = new boolean[len];
 		serialBytesLen = new int[len];
 		
-		int keyStart = -1; // ʼֶ
+		int keyStart = -1; // 主键的起始字段
 		
-		// ʼֶǰֶΪֶ
+		// 主键起始字段前面的字段认为是排序字段
 		for (int i = 0; i < len; ++i) {
 			if (colNames[i].startsWith(KEY_PREFIX)) {
 				keyStart = i;
@@ -133,17 +133,17 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * Ĵ
-	 * @param groupTable Ҫ
-	 * @param colNames 
-	 * @param serialBytesLen źų
-	 * @param tableName 
-	 * @param parent 
+	 * 附表的创建
+	 * @param groupTable 要创建附表的组表
+	 * @param colNames 列名称
+	 * @param serialBytesLen 排号长度
+	 * @param tableName 附表名
+	 * @param parent 主表对象
 	 * @throws IOException
 	 */
 	public RowPhyTable(ComTable groupTable, String []colNames, int []serialBytesLen,
 			String tableName, RowPhyTable parent) throws IOException {
-		// 飬ļʱӰ쵽Ĵ
+		// 创建新数组，否则文件组时可能影响到其它分区组表的创建
 		String []tmp = new String[colNames.length];
 		System.arraycopy(colNames, 0, tmp, 0, colNames.length);
 		colNames = tmp;
@@ -178,7 +178,7 @@ public class RowPhyTable extends PhyTable {
 		}
 		
 		if (parent != null) {
-			//Ŀǰֻһ
+			//目前限制只依附一层
 			if (parent.parent != null) {
 				MessageManager mm = EngineMessage.get();
 				throw new RQException(mm.getMessage("ds.dsNotMatch"));
@@ -192,7 +192,7 @@ public class RowPhyTable extends PhyTable {
 				collist.add(name);
 			}
 			
-			//ֶβֶظ
+			//字段不能与主表字段重复
 			for (int i = 0; i < len; i++) {
 				if (collist.contains(colNames[i])) {
 					MessageManager mm = EngineMessage.get();
@@ -211,10 +211,10 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * srcһͬĻ
-	 * @param groupTable Ҫ
-	 * @param parent 
-	 * @param src ṩṹԴ
+	 * 根据src创建一个同构的基表
+	 * @param groupTable 要创建基表的组表
+	 * @param parent 主表对象
+	 * @param src 提供结构的源基表
 	 * @throws IOException
 	 */
 	public RowPhyTable(ComTable groupTable, RowPhyTable parent, RowPhyTable src) throws IOException {
@@ -250,7 +250,7 @@ public class RowPhyTable extends PhyTable {
 	}
 
 	/**
-	 * ʼȡάȻϢ
+	 * 初始化，读取维、列名等基本信息
 	 */
 	protected void init() {
 		String[] col = colNames;
@@ -311,7 +311,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ά
+	 * 返回所有维列名称
 	 * @return
 	 */
 	public String[] getSortedColNames() {
@@ -319,7 +319,7 @@ public class RowPhyTable extends PhyTable {
 	}
 
 	/**
-	 * key
+	 * 返回所有key列名称
 	 * @return
 	 */
 	public String[] getAllKeyColNames() {
@@ -327,7 +327,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * һռ
+	 * 申请第一块空间
 	 */
 	protected void applyFirstBlock() throws IOException {
 		if (segmentBlockLink.isEmpty()) {
@@ -340,8 +340,8 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ׼д׷ӡɾ޸ǰá
-	 * úԹؼϢбݣֹдһʱ
+	 * 准备写。在追加、删除、修改数据前调用。
+	 * 调用后会对关键信息进行备份，防止写一般出意外时表数据损坏
 	 */
 	protected void prepareAppend() throws IOException {
 		applyFirstBlock();
@@ -352,7 +352,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * д
+	 * 结束写
 	 */
 	protected void finishAppend() throws IOException {
 		colWriter.finishWrite();
@@ -368,7 +368,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ȡͷ
+	 * 读取表头数据
 	 */
 	public void readExternal(BufferReader reader) throws IOException {
 		reader.read(reserve);
@@ -431,7 +431,7 @@ public class RowPhyTable extends PhyTable {
 		}
 		
 		if (groupTable.reserve[0] > 2) {
-			cuboids = reader.readStrings();//汾3
+			cuboids = reader.readStrings();//版本3增加
 		}
 		segmentCol = (String)reader.readObject();
 		segmentSerialLen = reader.readInt();
@@ -447,7 +447,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * дͷ
+	 * 写出表头数据
 	 */
 	public void writeExternal(BufferWriter writer) throws IOException {
 		reserve[0] = 1;
@@ -475,7 +475,7 @@ public class RowPhyTable extends PhyTable {
 			writer.writeBoolean(isDim[i]);
 		}
 		
-		//汾1
+		//版本1增加
 		for (int i = 0; i < count; ++i) {
 			writer.writeBoolean(isKey[i]);
 		}
@@ -504,7 +504,7 @@ public class RowPhyTable extends PhyTable {
 			}
 		}
 		
-		writer.writeStrings(cuboids);//汾3
+		writer.writeStrings(cuboids);//版本3增加
 		
 		writer.writeObject(segmentCol);
 		writer.flush();
@@ -519,18 +519,18 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ׷Ӹһ
+	 * 追加附表的一块数据
 	 * @param data
-	 * @param start ʼ
-	 * @param recList 
+	 * @param start 开始的列
+	 * @param recList 导列数据
 	 * @throws IOException
 	 */
 	private void appendAttachedDataBlock(Sequence data, boolean []isMyCol, LongArray recList) throws IOException {
 		Record r;
 		int count = allColNames.length;
 		boolean isDim[] = getDimIndex();
-		Object []minValues = null;//һСάֵ
-		Object []maxValues = null;//һάֵ
+		Object []minValues = null;//一块的最小维值
+		Object []maxValues = null;//一块的最大维值
 		
 		if (sortedColNames != null) {
 			minValues = new Object[count];
@@ -542,14 +542,14 @@ public class RowPhyTable extends PhyTable {
 		
 		int end = data.length();
 		for (int i = 1; i <= end; ++i) {
-			//дα
+			//写伪号
 			bufferWriter.writeObject(++recNum);
-			//д
+			//写导列
 			bufferWriter.writeObject(recList.get(i - 1));
 			
 			r = (Record) data.get(i);
 			Object[] vals = r.getFieldValues();
-			//дһbuffer
+			//写一条到buffer
 			for (int j = 0; j < count; j++) {
 				if (!isMyCol[j]) continue;
 				Object obj = vals[j];
@@ -562,7 +562,7 @@ public class RowPhyTable extends PhyTable {
 					if (Variant.compare(obj, maxValues[j], true) > 0)
 						maxValues[j] = obj;
 					if (i == 1)
-						minValues[j] = obj;//һҪֵΪnullʾС
+						minValues[j] = obj;//第一个要赋值，因为null表示最小
 					if (Variant.compare(obj, minValues[j], true) < 0)
 						minValues[j] = obj;
 				}
@@ -570,20 +570,20 @@ public class RowPhyTable extends PhyTable {
 		}
 
 		if (recList.size() == 0) {
-			//ǿտ飬дһnull
+			//如果是空块，则写一个null
 			bufferWriter.writeObject(null);
 		}
 		
 		if (sortedColNames == null) {
-			//ύbufferп
+			//提交buffer到行块
 			long pos = colWriter.writeDataBuffer(bufferWriter.finish());
-			//·ֶϢ
+			//更新分段信息
 			appendSegmentBlock(end);
 			objectWriter.writeLong40(pos);
 		} else {
-			//ύbufferп
+			//提交buffer到行块
 			long pos = colWriter.writeDataBuffer(bufferWriter.finish());
-			//·ֶϢ
+			//更新分段信息
 			appendSegmentBlock(end);
 			objectWriter.writeLong40(pos);
 			for (int i = 0; i < count; ++i) {
@@ -597,18 +597,18 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * dataеָΧд
-	 * @param data 
-	 * @param start ʼλ
-	 * @param end λ
+	 * 把data序列的指定范围的数据写出
+	 * @param data 数据序列
+	 * @param start 开始位置
+	 * @param end 结束位置
 	 * @throws IOException
 	 */
 	protected void appendDataBlock(Sequence data, int start, int end) throws IOException {
 		Record r;
 		int count = colNames.length;
 		boolean isDim[] = getDimIndex();
-		Object []minValues = null;//һСάֵ
-		Object []maxValues = null;//һάֵ
+		Object []minValues = null;//一块的最小维值
+		Object []maxValues = null;//一块的最大维值
 
 		if (sortedColNames != null) {
 			minValues = new Object[count];
@@ -621,8 +621,8 @@ public class RowPhyTable extends PhyTable {
 		for (int i = start; i <= end; ++i) {
 			r = (Record) data.get(i);
 			Object[] vals = r.getFieldValues();
-			//һдbuffer
-			bufferWriter.writeObject(++recNum);//дҪдһα
+			//把一条的所有列写到buffer
+			bufferWriter.writeObject(++recNum);//行存要先写一个伪号
 			for (int j = 0; j < count; j++) {
 				Object obj = vals[j];
 				bufferWriter.writeObject(obj);
@@ -630,24 +630,24 @@ public class RowPhyTable extends PhyTable {
 					if (Variant.compare(obj, maxValues[j], true) > 0)
 						maxValues[j] = obj;
 					if (i == start)
-						minValues[j] = obj;//һҪֵΪnullʾС
+						minValues[j] = obj;//第一个要赋值，因为null表示最小
 					if (Variant.compare(obj, minValues[j], true) < 0)
 						minValues[j] = obj;
 				}
 			}
 		}
 		
-		//дʱѹ
+		//写数据时不压缩
 		if (sortedColNames == null) {
-			//ύbufferп
+			//提交buffer到行块
 			long pos = colWriter.writeDataBuffer(bufferWriter.finish());
-			//·ֶϢ
+			//更新分段信息
 			appendSegmentBlock(end - start + 1);
 			objectWriter.writeLong40(pos);
 		} else {
-			//ύbufferп
+			//提交buffer到行块
 			long pos = colWriter.writeDataBuffer(bufferWriter.finish());
-			//·ֶϢ
+			//更新分段信息
 			appendSegmentBlock(end - start + 1);
 			objectWriter.writeLong40(pos);
 			for (int i = 0; i < count; ++i) {
@@ -660,7 +660,7 @@ public class RowPhyTable extends PhyTable {
 	}
 
 	/**
-	 * αд
+	 * 把游标的数据写出
 	 * @param cursor
 	 * @throws IOException
 	 */
@@ -673,14 +673,14 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * αд 
+	 * 把游标的数据写出 （附表）
 	 * @param cursor
 	 * @throws IOException
 	 */
 	private void appendAttached(ICursor cursor) throws IOException {
 		PhyTable primaryTable = parent;
-		int pBlockCount = primaryTable.getDataBlockCount();//ܿ
-		int curBlockCount = dataBlockCount;//Ҫ׷ӵĿʼ
+		int pBlockCount = primaryTable.getDataBlockCount();//主表的已有总块数
+		int curBlockCount = dataBlockCount;//要追加的开始块号
 		int pkeyEndIndex = sortedColStartIndex;
 		
 		String []primaryTableKeys = primaryTable.getSortedColNames();
@@ -716,7 +716,7 @@ public class RowPhyTable extends PhyTable {
 		String []allSortedColNames = getAllSortedColNames();
 		int sortedColCount = allSortedColNames.length;
 		Object []tableMaxValues = this.maxValues;
-		Object []lastValues = new Object[sortedColCount];//һάֵ
+		Object []lastValues = new Object[sortedColCount];//上一条维的值
 		
 		LongArray guideCol = new LongArray(MIN_BLOCK_RECORD_COUNT);
 		Sequence seq = new Sequence(MIN_BLOCK_RECORD_COUNT);
@@ -738,7 +738,7 @@ public class RowPhyTable extends PhyTable {
 					vals[f] = obj;
 				}
 				
-				//ұӦļ¼
+				//找本条和主键对应的记录
 				while (true) {
 					int cmp = Variant.compareArrays(curPkeyVals, vals, pkeyEndIndex);
 					if (cmp == 0) {
@@ -746,16 +746,16 @@ public class RowPhyTable extends PhyTable {
 					} else if (cmp < 0) {
 						pkeyIndex++;
 						if (pkeyIndex > pkeyDataLen) {
-							//ע⣺ʱпseqûм¼Ҫ׷һտ
-							//һ˾ύһ
+							//注意：这时有可能seq里没有记录，这就要追加一个空块
+							//处理完一段了就提交一块
 							appendAttachedDataBlock(seq, isMyCol, guideCol);
 							seq.clear();
 							guideCol = new LongArray(MIN_BLOCK_RECORD_COUNT);
 							
-							//ȡһ
+							//取下一段主键数据
 							curBlockCount++;
 							if (curBlockCount >= pBlockCount) {
-								//ȡˣﲻӦûݣ쳣
+								//主表取到最后了，附表里不应该还有数据，抛异常
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(mm.getMessage("dw.appendNotMatch") + r.toString(null));
 							}
@@ -768,21 +768,21 @@ public class RowPhyTable extends PhyTable {
 						curPkey = (ComTableRecord) pkeyData.get(pkeyIndex);
 						curPkeyVals = curPkey.getFieldValues();
 					} else if (cmp > 0) {
-						//Ӧó֣쳣
+						//不应该出现，抛异常
 						MessageManager mm = EngineMessage.get();
 						throw new RQException(mm.getMessage("dw.appendNotMatch") + r.toString(null));
 					}
 				}
 				
-				//ȷҪ׷һ
-				guideCol.add(curPkey.getRecordSeq());//ӵ
+				//到了这里就确定要追加一条了
+				guideCol.add(curPkey.getRecordSeq());//添加导列
 				
-				//
+				//处理主键和排序
 				if (isSorted) {
 					if (tableMaxValues != null) {
 						int cmp = Variant.compareArrays(vals, tableMaxValues, sortedColCount);
 						if (cmp < 0) {
-							//׷ӵݱ
+							//附表追加的数据必须有序
 							MessageManager mm = EngineMessage.get();
 							throw new RQException(mm.getMessage("dw.appendAttachedTable"));
 						} else if (cmp == 0){
@@ -796,13 +796,13 @@ public class RowPhyTable extends PhyTable {
 					}
 				}
 				
-				seq.add(r);//ݴ				
-				System.arraycopy(vals, 0, lastValues, 0, sortedColCount);//һάֵ
+				seq.add(r);//把这条暂存				
+				System.arraycopy(vals, 0, lastValues, 0, sortedColCount);//存上一条维值
 			}
 			data = cursor.fetch(ICursor.FETCHCOUNT);
 		}
 		
-		//һп (ȡˣﻹеĻͲ)
+		//处理最后一个列块 (即附表取到最后了，主表里还有的话，就不管了)
 		if (seq.length() > 0) {
 			appendAttachedDataBlock(seq, isMyCol, guideCol);
 		}
@@ -810,7 +810,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * αддʱҪзֶΡ
+	 * 把游标的数据写出。写出时需要进行分段。
 	 * @param cursor
 	 * @throws IOException
 	 */
@@ -835,8 +835,8 @@ public class RowPhyTable extends PhyTable {
 		if (segmentSerialLen == 0 || segmentSerialLen > serialBytesLen) {
 			segmentSerialLen = serialBytesLen;
 		}
-		Object []lastValues = new Object[cmpLen];//һάֵ
-		Object []curValues = new Object[cmpLen];//ǰάֵ
+		Object []lastValues = new Object[cmpLen];//上一条维的值
+		Object []curValues = new Object[cmpLen];//当前条维的值
 		
 		Sequence seq = new Sequence(MIN_BLOCK_RECORD_COUNT);
 		Sequence data = cursor.fetch(ICursor.FETCHCOUNT);
@@ -852,7 +852,7 @@ public class RowPhyTable extends PhyTable {
 					vals[f] = r.getNormalFieldValue(findex[f]);
 				}
 
-				//жǷһп
+				//这里判断是否够一个列块了
 				if (recCount >= MIN_BLOCK_RECORD_COUNT){
 					if (serialBytesLen < 1) {
 						System.arraycopy(vals, 0, curValues, 0, cmpLen);
@@ -874,7 +874,7 @@ public class RowPhyTable extends PhyTable {
 					}
 				}
 				
-				//
+				//处理主键和排序
 				if (isSorted) {
 					if (tableMaxValues != null) {
 						int cmp = Variant.compareArrays(vals, tableMaxValues, sortedColCount);
@@ -888,7 +888,7 @@ public class RowPhyTable extends PhyTable {
 							System.arraycopy(vals, 0, tableMaxValues, 0, sortedColCount);
 						}
 						if (tableList.size() > 0 && !hasPrimaryKey) {
-							//ڸʱ׷ӵݱΨһ
+							//存在附表时，主表追加的数据必须有序唯一
 							MessageManager mm = EngineMessage.get();
 							throw new RQException(mm.getMessage("dw.appendPrimaryTable"));
 						}
@@ -898,13 +898,13 @@ public class RowPhyTable extends PhyTable {
 					}
 				}
 				
-				//ݴ
+				//把这条暂存
 				seq.add(r);
 				
 				if (serialBytesLen < 1) {
 					System.arraycopy(vals, 0, lastValues, 0, cmpLen);
 				} else {
-					System.arraycopy(vals, 0, lastValues, 0, segmentIndex);//һάֵ
+					System.arraycopy(vals, 0, lastValues, 0, segmentIndex);//存上一条维值
 					Long val;
 					Object  obj = vals[segmentIndex];
 					if (obj instanceof Integer) {
@@ -919,7 +919,7 @@ public class RowPhyTable extends PhyTable {
 			data = cursor.fetch(ICursor.FETCHCOUNT);
 		}
 		
-		//һп
+		//处理最后一个列块
 		if (seq.length() > 0) {
 			appendDataBlock(seq, 1, seq.length());
 		}
@@ -927,7 +927,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * αддʱҪжǷά
+	 * 把游标的数据写出。写出时需要判断数据是否对维有序。
 	 * @param cursor
 	 * @throws IOException
 	 */
@@ -935,7 +935,7 @@ public class RowPhyTable extends PhyTable {
 		int recCount = 0;
 		int sortedColCount = sortedColNames.length;
 		Object []tableMaxValues = this.maxValues;
-		Object []lastValues = new Object[sortedColCount];//һάֵ
+		Object []lastValues = new Object[sortedColCount];//上一条维的值
 		
 		Sequence seq = new Sequence(MIN_BLOCK_RECORD_COUNT);
 		Sequence data = cursor.fetch(ICursor.FETCHCOUNT);
@@ -951,9 +951,9 @@ public class RowPhyTable extends PhyTable {
 					vals[f] = r.getNormalFieldValue(findex[f]);
 				}
 
-				//жǷһп
+				//这里判断是否够一个列块了
 				if (recCount >= MAX_BLOCK_RECORD_COUNT) {
-					//ʱύһ
+					//这时提交一半
 					appendDataBlock(seq, 1, MAX_BLOCK_RECORD_COUNT/2);
 					seq = (Sequence) seq.get(MAX_BLOCK_RECORD_COUNT/2 + 1, seq.length() + 1);
 					recCount = seq.length(); 
@@ -979,7 +979,7 @@ public class RowPhyTable extends PhyTable {
 					}
 				}
 				
-				//
+				//处理主键和排序
 				if (isSorted) {
 					if (tableMaxValues != null) {
 						int cmp = Variant.compareArrays(vals, tableMaxValues, sortedColCount);
@@ -993,7 +993,7 @@ public class RowPhyTable extends PhyTable {
 							System.arraycopy(vals, 0, tableMaxValues, 0, sortedColCount);
 						}
 						if (tableList.size() > 0 && !hasPrimaryKey) {
-							//ڸʱ׷ӵݱΨһ
+							//存在附表时，主表追加的数据必须有序唯一
 							MessageManager mm = EngineMessage.get();
 							throw new RQException(mm.getMessage("dw.appendPrimaryTable"));
 						}
@@ -1003,14 +1003,14 @@ public class RowPhyTable extends PhyTable {
 					}
 				}
 				
-				seq.add(r);//ݴ				
-				System.arraycopy(vals, 0, lastValues, 0, sortedColCount);//һάֵ				
+				seq.add(r);//把这条暂存				
+				System.arraycopy(vals, 0, lastValues, 0, sortedColCount);//存上一条维值				
 				recCount++;
 			}
 			data = cursor.fetch(ICursor.FETCHCOUNT);
 		}
 		
-		//һп
+		//处理最后一个列块
 		if (seq.length() > 0) {
 			appendDataBlock(seq, 1, seq.length());
 		}
@@ -1018,15 +1018,15 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ׷
+	 * 追加数据
 	 */
 	public void append(ICursor cursor) throws IOException {
-		// ûάֶȡGroupTable.MIN_BLOCK_RECORD_COUNT¼
-		// 3άֶd1d2d3άֶεֵȡMIN_BLOCK_RECORD_COUNT¼
-		// [d1,d2,d3]Ҫ[d1,d2]ֵͬĸ֮Ҫ[d1,d2,d3]ֵͬĲ
-		// ͬĳMAX_BLOCK_RECORD_COUNTMAX_BLOCK_RECORD_COUNT / 2Ϊһ
-		// ÿһедBufferWriterȻfinishõֽ飬ٵcompressѹݣдColumnMetaData
-		// άֶʱҪmaxValueshasPrimaryKeyԱhasPrimaryKeyΪfalseٸ
+		// 如果没有维字段则取GroupTable.MIN_BLOCK_RECORD_COUNT条记录
+		// 否则假设有3个维字段d1、d2、d3，根据维字段的值取出至少MIN_BLOCK_RECORD_COUNT条记录
+		// 如果[d1,d2,d3]是主键则不要把[d1,d2]值相同的给拆到两个块里，反之不要把[d1,d2,d3]值相同的拆到两个块里
+		// 如果相同的超过了MAX_BLOCK_RECORD_COUNT，则以MAX_BLOCK_RECORD_COUNT / 2条为一块
+		// 把每一列的数据写到BufferWriter然后调用finish得到字节数组，再调用compress压缩数据，最后写进ColumnMetaData
+		// 有维字段时要更新maxValues、hasPrimaryKey两个成员，如果hasPrimaryKey为false则不再更新
 		if (cursor == null) {
 			return;
 		}
@@ -1037,7 +1037,7 @@ public class RowPhyTable extends PhyTable {
 			return;
 		}
 		
-		//жϽṹƥ
+		//判断结构匹配
 		DataStruct ds = data.dataStruct();
 		if (ds == null) {
 			MessageManager mm = EngineMessage.get();
@@ -1053,7 +1053,7 @@ public class RowPhyTable extends PhyTable {
 			}
 		}
 		
-		//αݲ1
+		//如果游标数据不足1块
 		if (data.length() < MIN_BLOCK_RECORD_COUNT) {
 			if (appendCache == null) {
 				appendCache = data;
@@ -1068,7 +1068,7 @@ public class RowPhyTable extends PhyTable {
 			return;
 		}
 		
-		//л
+		//如果有缓存数据
 		if (appendCache != null) {
 			ICursor []cursorArray = new ICursor[2];
 			cursorArray[0] = new MemoryCursor(appendCache);
@@ -1077,7 +1077,7 @@ public class RowPhyTable extends PhyTable {
 			appendCache = null;
 		}
 		
-		// ׼д
+		// 准备写数据
 		prepareAppend();
 		
 		if (parent != null) {
@@ -1091,7 +1091,7 @@ public class RowPhyTable extends PhyTable {
 			appendSegment(cursor);
 		}
 		
-		// дݣ浽ļ
+		// 结束写数据，保存到文件
 		finishAppend();
 	}
 
@@ -1102,7 +1102,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ȡֶιȼ
+	 * 取字段过滤优先级
 	 * @param name
 	 * @return
 	 */
@@ -1122,7 +1122,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * α
+	 * 返回这个基表的游标
 	 */
 	public ICursor cursor() {
 		getGroupTable().checkReadable();
@@ -1180,7 +1180,7 @@ public class RowPhyTable extends PhyTable {
 	public ICursor cursor(Expression []exps, String []fields, Expression filter, Context ctx, int segSeq, int segCount) {
 		getGroupTable().checkReadable();
 		if (filter != null) {
-			filter = filter.newExpression(ctx); // ֶβжȡʱҪƱʽͬһʽֲ֧
+			filter = filter.newExpression(ctx); // 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 		}
 		
 		String []fetchFields;
@@ -1211,7 +1211,7 @@ public class RowPhyTable extends PhyTable {
 		int avg = dataBlockCount / segCount;
 		
 		if (avg < 1) {
-			// ÿβһ
+			// 每段不足一块
 			if (segSeq <= dataBlockCount) {
 				startBlock = segSeq - 1;
 				endBlock = segSeq;
@@ -1221,7 +1221,7 @@ public class RowPhyTable extends PhyTable {
 				endBlock = segSeq * avg;
 				startBlock = endBlock - avg;
 				
-				// ʣĿÿζһ
+				// 剩余的块后面的每段多一块
 				int mod = dataBlockCount % segCount;
 				int n = mod - (segCount - segSeq);
 				if (n > 0) {
@@ -1239,7 +1239,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	public ICursor cursor(String []fields, Expression exp, MultipathCursors mcs, Context ctx) {
 		getGroupTable().checkReadable();
-		//д治ֶ֧·
+		//行存不支持多路
 		MessageManager mm = EngineMessage.get();
 		throw new RQException("cursor" + mm.getMessage("dw.needMCursor"));
 	}
@@ -1307,7 +1307,7 @@ public class RowPhyTable extends PhyTable {
 	}
 
 	/**
-	 * вļʱݸ
+	 * 有补文件时的数据更新
 	 * @param stmd
 	 * @param data
 	 * @param opt
@@ -1342,7 +1342,7 @@ public class RowPhyTable extends PhyTable {
 			throw new RQException(mm.getMessage("engine.dsNotMatch"));
 		}
 		
-		// Ըݽ
+		// 对更新数据进行排序
 		data.sortFields(getAllSortedColNames());
 		appendCache();
 		
@@ -1360,7 +1360,7 @@ public class RowPhyTable extends PhyTable {
 		boolean isPrimaryTable = parent == null;
 		int len = data.length();
 		long []seqs = new long[len + 1];
-		int []block = new int[len + 1];//Ƿһεĵײinsert(ӱ)
+		int []block = new int[len + 1];//是否在一个段的底部insert(子表)
 		long []recNum = null;
 		int []temp = new int[1];
 		
@@ -1384,7 +1384,7 @@ public class RowPhyTable extends PhyTable {
 				}
 			}
 		} else {
-			recNum  = new long[len + 1];//ӱӦαţ0ʾ
+			recNum  = new long[len + 1];//子表对应到主表的伪号，0表示在主表补区
 			RowPhyTable baseTable = (RowPhyTable) this.groupTable.baseTable;
 			RowRecordSeqSearcher baseSearcher = new RowRecordSeqSearcher(baseTable);
 			RowRecordSeqSearcher2 searcher = new RowRecordSeqSearcher2(this);
@@ -1395,17 +1395,17 @@ public class RowPhyTable extends PhyTable {
 					seqs[i] = searcher.findNext(r.getFieldValue(k), temp);
 					block[i] = temp[0];
 					if (seqs[i] < 0) {
-						//ǲ룬ҪжһǷ
+						//如果是插入，要判断一下是否在主表的列区
 						long seq = baseSearcher.findNext(r.getFieldValue(k));
 						if (seq > 0) {
 							recNum[i] = seq;
 						} else {
 							if (baseSearcher.isEnd()) {
-								//ӱݱ
+								//子表插入的数据必须在主表
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));	
 							}
-							recNum[i] = 0;//ᴦ
+							recNum[i] = 0;//如果在主表补区，下面会处理
 						}
 					} else {
 						recNum[i] = searcher.getRecNum();
@@ -1428,17 +1428,17 @@ public class RowPhyTable extends PhyTable {
 					seqs[i] = searcher.findNext(keyValues, temp);
 					block[i] = temp[0];
 					if (seqs[i] < 0 || block[i] > 0) {
-						//ǲ룬ҪжһǷ
+						//如果是插入，要判断一下是否在主表的列区
 						long seq = baseSearcher.findNext(baseKeyValues);
 						if (seq > 0) {
 							recNum[i] = seq;
 						} else {
 							if (baseSearcher.isEnd()) {
-								//ӱݱ
+								//子表插入的数据必须在主表
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));	
 							}
-							recNum[i] = 0;//ᴦ
+							recNum[i] = 0;//如果在主表补区，下面会处理
 						}
 					} else {
 						recNum[i] = searcher.getRecNum();
@@ -1447,7 +1447,7 @@ public class RowPhyTable extends PhyTable {
 			}
 		}
 		
-		// Ҫĵappend׷
+		// 需要在最后插入的调用append追加
 		Sequence append = new Sequence();
 		ArrayList<ModifyRecord> modifyRecords = getModifyRecords();
 		boolean needUpdateSubTable = false;
@@ -1490,7 +1490,7 @@ public class RowPhyTable extends PhyTable {
 						} else {
 							if ((mr.getState() == ModifyRecord.STATE_UPDATE && isUpdate) || 
 									(mr.getState() == ModifyRecord.STATE_DELETE && isInsert)) {
-								// ״̬update
+								// 状态都用update
 								Record sr = (Record)data.getMem(t);
 								mr.setRecord(sr, ModifyRecord.STATE_UPDATE);
 								if (result != null) {
@@ -1579,7 +1579,7 @@ public class RowPhyTable extends PhyTable {
 		}
 		
 		if (!isPrimaryTable) {
-			//ӱҪ޸
+			//子表补区最后要根据主表补区修改
 			update(parent.getModifyRecords());
 			
 			for (ModifyRecord r : modifyRecords) {
@@ -1587,7 +1587,7 @@ public class RowPhyTable extends PhyTable {
 					if (r.getParentRecordSeq() == 0) {
 						this.modifyRecords = null;
 						this.modifyRecords = getModifyRecords();
-						//ӱݱ
+						//子表插入的数据必须在主表
 						MessageManager mm = EngineMessage.get();
 						throw new RQException(r.getRecord().toString(null) + mm.getMessage("grouptable.invalidData"));
 					}
@@ -1599,7 +1599,7 @@ public class RowPhyTable extends PhyTable {
 		saveModifyRecords();
 		
 		if (isPrimaryTable && needUpdateSubTable) {
-			//insertͱӱ
+			//主表有insert，就必须更新所有子表补区
 			ArrayList<PhyTable> tableList = getTableList();
 			for (int i = 0, size = tableList.size(); i < size; ++i) {
 				RowPhyTable t = ((RowPhyTable)tableList.get(i));
@@ -1622,7 +1622,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * 
+	 * 更新
 	 */
 	public Sequence update(Sequence data, String opt) throws IOException {
 		if (!hasPrimaryKey) {
@@ -1678,7 +1678,7 @@ public class RowPhyTable extends PhyTable {
 			throw new RQException(mm.getMessage("engine.dsNotMatch"));
 		}
 		
-		// Ըݽ
+		// 对更新数据进行排序
 		data.sortFields(getAllSortedColNames());
 		appendCache();
 		
@@ -1696,7 +1696,7 @@ public class RowPhyTable extends PhyTable {
 		boolean isPrimaryTable = parent == null;
 		int len = data.length();
 		long []seqs = new long[len + 1];
-		int []block = new int[len + 1];//Ƿһεĵײinsert(ӱ)
+		int []block = new int[len + 1];//是否在一个段的底部insert(子表)
 		long []recNum = null;
 		int []temp = new int[1];
 		
@@ -1721,7 +1721,7 @@ public class RowPhyTable extends PhyTable {
 				}
 			}
 		} else {
-			recNum  = new long[len + 1];//ӱӦαţ0ʾ
+			recNum  = new long[len + 1];//子表对应到主表的伪号，0表示在主表补区
 			RowPhyTable baseTable = (RowPhyTable) this.groupTable.baseTable;
 			RowRecordSeqSearcher baseSearcher = new RowRecordSeqSearcher(baseTable);
 			RowRecordSeqSearcher2 searcher = new RowRecordSeqSearcher2(this);
@@ -1732,17 +1732,17 @@ public class RowPhyTable extends PhyTable {
 					seqs[i] = searcher.findNext(r.getFieldValue(k), temp);
 					block[i] = temp[0];
 					if (seqs[i] < 0) {
-						//ǲ룬ҪжһǷ
+						//如果是插入，要判断一下是否在主表的列区
 						long seq = baseSearcher.findNext(r.getFieldValue(k));
 						if (seq > 0) {
 							recNum[i] = seq;
 						} else {
 							if (baseSearcher.isEnd()) {
-								//ӱݱ
+								//子表插入的数据必须在主表
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));	
 							}
-							recNum[i] = 0;//ᴦ
+							recNum[i] = 0;//如果在主表补区，下面会处理
 						}
 					} else {
 						recNum[i] = searcher.getRecNum();
@@ -1765,17 +1765,17 @@ public class RowPhyTable extends PhyTable {
 					seqs[i] = searcher.findNext(keyValues, temp);
 					block[i] = temp[0];
 					if (seqs[i] < 0 || block[i] > 0) {
-						//ǲ룬ҪжһǷ
+						//如果是插入，要判断一下是否在主表的列区
 						long seq = baseSearcher.findNext(baseKeyValues);
 						if (seq > 0) {
 							recNum[i] = seq;
 						} else {
 							if (baseSearcher.isEnd()) {
-								//ӱݱ
+								//子表插入的数据必须在主表
 								MessageManager mm = EngineMessage.get();
 								throw new RQException(r.toString(null) + mm.getMessage("grouptable.invalidData"));	
 							}
-							recNum[i] = 0;//ᴦ
+							recNum[i] = 0;//如果在主表补区，下面会处理
 						}
 					} else {
 						recNum[i] = searcher.getRecNum();
@@ -1784,7 +1784,7 @@ public class RowPhyTable extends PhyTable {
 			}
 		}
 		
-		// Ҫĵappend׷
+		// 需要在最后插入的调用append追加
 		Sequence append = new Sequence();
 		ArrayList<ModifyRecord> modifyRecords = getModifyRecords();
 		boolean needUpdateSubTable = false;
@@ -1808,8 +1808,8 @@ public class RowPhyTable extends PhyTable {
 					if (seq <= totalRecordCount || block[i] > 0) {
 						ModifyRecord r = new ModifyRecord(seq, ModifyRecord.STATE_INSERT, sr);
 						r.setBlock(block[i]);
-						//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-						//Ϊָαţ޸
+						//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+						//这里先设置为指向列区伪号，最后会根据主表补区修改
 						if (!isPrimaryTable) {
 							r.setParentRecordSeq(recNum[i]);
 						}
@@ -1844,7 +1844,7 @@ public class RowPhyTable extends PhyTable {
 						} else {
 							if ((mr.getState() == ModifyRecord.STATE_UPDATE && isUpdate) || 
 									(mr.getState() == ModifyRecord.STATE_DELETE && isInsert)) {
-								// ״̬update
+								// 状态都用update
 								Record sr = (Record)data.getMem(t);
 								mr.setRecord(sr, ModifyRecord.STATE_UPDATE);
 								mr.setParentRecordSeq(recNum[t]);
@@ -1899,8 +1899,8 @@ public class RowPhyTable extends PhyTable {
 									Record sr = (Record)data.getMem(t);
 									mr = new ModifyRecord(seq2, ModifyRecord.STATE_INSERT, sr);
 									mr.setBlock(block[t]);
-									//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-									//Ϊָαţ޸
+									//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+									//这里先设置为指向列区伪号，最后会根据主表补区修改
 									if (!isPrimaryTable) {
 										mr.setParentRecordSeq(recNum[t]);
 									}
@@ -1918,8 +1918,8 @@ public class RowPhyTable extends PhyTable {
 								Record sr = (Record)data.getMem(t);
 								mr = new ModifyRecord(seq2, ModifyRecord.STATE_INSERT, sr);
 								mr.setBlock(block[t]);
-								//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-								//Ϊָαţ޸
+								//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+								//这里先设置为指向列区伪号，最后会根据主表补区修改
 								if (!isPrimaryTable) {
 									mr.setParentRecordSeq(recNum[t]);
 								}
@@ -1937,8 +1937,8 @@ public class RowPhyTable extends PhyTable {
 							Record sr = (Record)data.getMem(t);
 							mr = new ModifyRecord(seq2, ModifyRecord.STATE_INSERT, sr);
 							mr.setBlock(block[t]);
-							//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-							//Ϊָαţ޸
+							//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+							//这里先设置为指向列区伪号，最后会根据主表补区修改
 							if (!isPrimaryTable) {
 								mr.setParentRecordSeq(recNum[t]);
 							}
@@ -1973,8 +1973,8 @@ public class RowPhyTable extends PhyTable {
 					if (seq <= totalRecordCount) {
 						ModifyRecord r = new ModifyRecord(seq, ModifyRecord.STATE_INSERT, sr);
 						r.setBlock(block[t]);
-						//ӱinsert ҪparentRecordSeqΪӱinsertĿָ
-						//Ϊָαţ޸
+						//如果是子表insert 要处理parentRecordSeq，因为子表insert的可能指向主表列区
+						//这里先设置为指向列区伪号，最后会根据主表补区修改
 						if (!isPrimaryTable) {
 							r.setParentRecordSeq(recNum[t]);
 						}
@@ -1997,7 +1997,7 @@ public class RowPhyTable extends PhyTable {
 		}
 		
 		if (!isPrimaryTable) {
-			//ӱҪ޸
+			//子表补区最后要根据主表补区修改
 			update(parent.getModifyRecords());
 			
 			for (ModifyRecord r : modifyRecords) {
@@ -2005,7 +2005,7 @@ public class RowPhyTable extends PhyTable {
 					if (r.getParentRecordSeq() == 0) {
 						this.modifyRecords = null;
 						this.modifyRecords = getModifyRecords();
-						//ӱݱ
+						//子表插入的数据必须在主表
 						MessageManager mm = EngineMessage.get();
 						throw new RQException(r.getRecord().toString(null) + mm.getMessage("grouptable.invalidData"));
 					}
@@ -2017,7 +2017,7 @@ public class RowPhyTable extends PhyTable {
 		saveModifyRecords();
 		
 		if (isPrimaryTable && needUpdateSubTable) {
-			//insertͱӱ
+			//主表有insert，就必须更新所有子表补区
 			ArrayList<PhyTable> tableList = getTableList();
 			for (int i = 0, size = tableList.size(); i < size; ++i) {
 				RowPhyTable t = ((RowPhyTable)tableList.get(i));
@@ -2050,7 +2050,7 @@ public class RowPhyTable extends PhyTable {
 		Sequence result1 = null;
 		PhyTable tmd = getSupplementTable(false);
 		if (tmd != null) {
-			// вļʱɾļеݣļвڵԴļɾ
+			// 有补文件时先删除补文件中的数据，补文件中不存在的再在源文件中删除
 			result1 = tmd.delete(data, "n");
 			data = (Sequence) data.diff(result1, false);
 		}
@@ -2067,7 +2067,7 @@ public class RowPhyTable extends PhyTable {
 			result = new Sequence();
 		}
 		
-		boolean deleteByBaseKey = false;//ֻڲɾӱʱ@n
+		boolean deleteByBaseKey = false;//只用于内部删除子表的列区，此时不会有@n
 		if (opt != null && opt.indexOf('s') != -1) {
 			deleteByBaseKey = true;
 		}
@@ -2148,7 +2148,7 @@ public class RowPhyTable extends PhyTable {
 				if (deleteByBaseKey) {
 					long s = searcher.findNext(keyValues, keyCount);
 					if (s <= 0) {
-						i++;//Ҳʱ++
+						i++;//当找不到时才++
 					} else {
 						seqList.add(s);
 						seqListData.add(r);
@@ -2297,16 +2297,16 @@ public class RowPhyTable extends PhyTable {
 		
 		if (modified) {
 			if (isPrimaryTable) {
-				//deleteͱͬdeleteӱ
+				//主表有delete，就必须同步delete子表
 				ArrayList<PhyTable> tableList = getTableList();
 				int size = tableList.size();
 				for (int i = 0; i < size; ++i) {
 					RowPhyTable t = ((RowPhyTable)tableList.get(i));
-					t.delete(data, "s");//ɾӱ
-					t.delete(data);//ɾӱ
+					t.delete(data, "s");//删除子表列区
+					t.delete(data);//删除子表补区
 				}
 				
-				//ɾλû仯Ҫͬӱ
+				//主表有删除，补区的位置会变化，还要同步子表补区
 				for (int i = 0; i < size; ++i) {
 					RowPhyTable t = ((RowPhyTable)tableList.get(i));
 					t.update(this.modifyRecords);
@@ -2331,8 +2331,8 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ݻĲͬԼĲ
-	 * @param baseModifyRecords Ĳ¼
+	 * 根据基表的补区，同步更新自己的补区
+	 * @param baseModifyRecords 基表的补区记录
 	 * @return
 	 * @throws IOException
 	 */
@@ -2381,7 +2381,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * dataɾӱĲ
+	 * 根据data删除子表的补区
 	 * @param data
 	 * @return
 	 * @throws IOException
@@ -2441,7 +2441,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * readerѡǷһ飩
+	 * 返回reader（可选是否读第一块）
 	 * @param isLoadFirstBlock
 	 * @return
 	 */
@@ -2472,7 +2472,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * άֶελ
+	 * 获得维字段的位置
 	 * @return
 	 */
 	public boolean[] getDimIndex() {
@@ -2490,7 +2490,7 @@ public class RowPhyTable extends PhyTable {
 	}
 
 	/**
-	 * жǷά
+	 * 判断是否是维
 	 * @param colName
 	 * @return
 	 */
@@ -2508,7 +2508,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * жǷkey
+	 * 判断是否是key
 	 * @param colName
 	 * @return
 	 */
@@ -2526,7 +2526,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * õάֶθ
+	 * 得到维字段个数
 	 * @return
 	 */
 	protected int getDimCount() {
@@ -2543,7 +2543,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * õάֶθ
+	 * 得到维字段个数
 	 * @return
 	 */
 	protected int getKeyCount() {
@@ -2573,7 +2573,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ֶƣӱֶ
+	 * 返回所有字段名称，包含主表、子表所有字段
 	 * @return
 	 */
 	public String[] getTotalColNames() {
@@ -2587,7 +2587,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ֶ
+	 * 总字段数
 	 * @return
 	 */
 	public int getTotalColCount() {
@@ -2596,7 +2596,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * ֶεźųȣӱֶΣ
+	 * 所有字段的排号长度（包含主表、子表所有字段）
 	 * @return
 	 */
 	public int[] getTotalSerialBytesLen() {
@@ -2611,7 +2611,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * д治ֶ֧·
+	 * 行存不支持多路
 	 * @param fields
 	 * @param filter
 	 * @param ctx
@@ -2752,7 +2752,7 @@ public class RowPhyTable extends PhyTable {
 		return intervals.toArray();
 	}
 
-	// @m Թ鲢ʽ׷ӣݲ֧и
+	// @m 以归并方式追加，暂不支持有附表的情况
 	public void append(ICursor cursor, String opt) throws IOException {
 		if (isSorted && opt != null) {
 			if (opt.indexOf('a') != -1) {
@@ -2772,17 +2772,17 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	private void mergeAppend(ICursor cursor, String opt) throws IOException {
-		// ִ֧鲢׷
+		// 不支持带附表的组表归并追加
 		if (!isSingleTable()) {
 			throw new RQException("'append@m' is unimplemented in annex table!");
 		}
-		// ݽṹǷ
+		// 检查数据结构是否兼容
 		Sequence data = cursor.peek(ICursor.FETCHCOUNT);		
 		if (data == null || data.length() <= 0) {
 			return;
 		}
 		
-		//жϽṹƥ
+		//判断结构匹配
 		DataStruct ds = data.dataStruct();
 		if (ds == null) {
 			MessageManager mm = EngineMessage.get();
@@ -2803,7 +2803,7 @@ public class RowPhyTable extends PhyTable {
 			}
 		}
 				
-		// 鲢ȱ浽ʱļ
+		// 归并读的数据先保存到临时文件
 		RowComTable groupTable = (RowComTable)getGroupTable();
 		File srcFile = groupTable.getFile();
 		File tmpFile = File.createTempFile("tmpdata", "", srcFile.getParentFile());
@@ -2830,31 +2830,31 @@ public class RowPhyTable extends PhyTable {
 				mergeExps[i] = new Expression(sortedColNames[i]);
 			}
 			
-			// 鲢
+			// 做归并
 			RowCursor srcCursor = new RowCursor(this);
 			ICursor []cursors = new ICursor[]{srcCursor, cursor};
 			MergesCursor mergeCursor = new MergesCursor(cursors, mergeExps, ctx);
 			baseTable.append(mergeCursor);
 			baseTable.close();
 			
-			// رղɾļʱļΪļ
+			// 关闭并删除组表文件，把临时文件重命名为组表文件名
 			groupTable.raf.close();
 			groupTable.file.delete();
 			tmpFile.renameTo(groupTable.file);
 			
-			// ´
+			// 重新打开组表
 			groupTable.reopen();
 		} finally {
 			tmpFile.delete();
 		}	
 	}
 	
-	//д뻺
+	//写入缓存的数据
 	public void appendCache() throws IOException {
 		if (appendCache == null) return;
 		
 		ICursor cursor = new MemoryCursor(appendCache);
-		// ׼д
+		// 准备写数据
 		prepareAppend();
 		
 		if (parent != null) {
@@ -2868,7 +2868,7 @@ public class RowPhyTable extends PhyTable {
 			appendSegment(cursor);
 		}
 		
-		// дݣ浽ļ
+		// 结束写数据，保存到文件
 		finishAppend();
 		appendCache = null;
 	}
@@ -2876,7 +2876,7 @@ public class RowPhyTable extends PhyTable {
 	public ICursor cursor(String[] fields, Expression filter, String[] fkNames, Sequence[] codes, 
 			String []opts, Context ctx, int pathSeq, int pathCount, int pathCount2) {
 		getGroupTable().checkReadable();
-		//д治ֶ֧·
+		//行存不支持多路
 		MessageManager mm = EngineMessage.get();
 		throw new RQException("cursor" + mm.getMessage("dw.needMCursor"));
 	}
@@ -2884,7 +2884,7 @@ public class RowPhyTable extends PhyTable {
 	public ICursor cursor(String[] fields, Expression exp, String[] fkNames, Sequence[] codes, 
 			String []opts, ICursor cs, int seg, Object [][]endValues, Context ctx) {
 		getGroupTable().checkReadable();
-		//д治ֶ֧·
+		//行存不支持多路
 		MessageManager mm = EngineMessage.get();
 		throw new RQException("cursor" + mm.getMessage("dw.needMCursor"));
 	}
@@ -2918,7 +2918,7 @@ public class RowPhyTable extends PhyTable {
 			pathCount = blockCount;
 		}
 		
-		// ǰĿÿζһ
+		// 前面的块每段多一块
 		int mod = blockCount % pathCount;
 		cursors = new ICursor[pathCount];
 		int start = 0;
@@ -2929,7 +2929,7 @@ public class RowPhyTable extends PhyTable {
 			}
 			
 			if (filter != null) {
-				// ֶβжȡʱҪƱʽͬһʽֲ֧
+				// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 				filter = filter.newExpression(ctx);
 			}
 			
@@ -2963,7 +2963,7 @@ public class RowPhyTable extends PhyTable {
 		getGroupTable().checkReadable();
 		
 		if (filter != null) {
-			// ֶβжȡʱҪƱʽͬһʽֲ֧
+			// 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 			filter = filter.newExpression(ctx);
 		}
 		
@@ -2978,7 +2978,7 @@ public class RowPhyTable extends PhyTable {
 		int avg = dataBlockCount / segCount;
 		
 		if (avg < 1) {
-			// ÿβһ
+			// 每段不足一块
 			if (segSeq <= dataBlockCount) {
 				startBlock = segSeq - 1;
 				endBlock = segSeq;
@@ -2988,7 +2988,7 @@ public class RowPhyTable extends PhyTable {
 				endBlock = segSeq * avg;
 				startBlock = endBlock - avg;
 				
-				// ʣĿÿζһ
+				// 剩余的块后面的每段多一块
 				int mod = dataBlockCount % segCount;
 				int n = mod - (segCount - segSeq);
 				if (n > 0) {
@@ -3006,27 +3006,27 @@ public class RowPhyTable extends PhyTable {
 
 	public ICursor cursor(Expression[] exps, String[] fields, Expression filter, String[] fkNames, 
 			Sequence[] codes,String []opts, MultipathCursors mcs, String opt, Context ctx) {
-		//д治ֶ֧·
+		//行存不支持多路
 		MessageManager mm = EngineMessage.get();
 		throw new RQException("cursor" + mm.getMessage("dw.needMCursor"));
 	}
 
 	public ICursor cursor(Expression[] exps, String[] fields, Expression filter, String[] fkNames, 
 			Sequence[] codes,String []opts, int pathSeq, int pathCount, int pathCount2, Context ctx) {
-		//д治ֶ֧·
+		//行存不支持多路
 		MessageManager mm = EngineMessage.get();
 		throw new RQException("cursor" + mm.getMessage("dw.needMCursor"));
 	}
 
 	public ICursor cursor(Expression[] exps, String[] fields, Expression filter, String[] fkNames, 
 			Sequence[] codes,String []opts, ICursor cs, int seg, Object[][] endValues, Context ctx) {
-		//д治ֶ֧·
+		//行存不支持多路
 		MessageManager mm = EngineMessage.get();
 		throw new RQException("cursor" + mm.getMessage("dw.needMCursor"));
 	}
 
 	public void addColumn(String colName, Expression exp, Context ctx) {
-		//д治֧޸
+		//行存不支持修改列
 		MessageManager mm = EngineMessage.get();
 		throw new RQException("cursor" + mm.getMessage("dw.needMCursor"));
 	}
@@ -3035,7 +3035,7 @@ public class RowPhyTable extends PhyTable {
 	}
 	
 	/**
-	 * еСֵ
+	 * 返回列的最大最小值
 	 * @param key
 	 * @return
 	 * @throws IOException
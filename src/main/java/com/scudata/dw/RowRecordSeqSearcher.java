@@ -7,25 +7,25 @@ import com.scudata.dm.ObjectReader;
 import com.scudata.util.Variant;
 
 /**
- * д¼
+ * 行存记录查找器
  * @author runqian
  *
  */
 class RowRecordSeqSearcher {
 	private RowPhyTable table;
-	private long prevRecordCount = 0;//ǰѾȡļ¼
-	private int curBlock = -1;//ǰ
-	private int totalBlockCount;//ܿ
+	private long prevRecordCount = 0;//当前已经取出的记录数
+	private int curBlock = -1;//当前块号
+	private int totalBlockCount;//总块数
 	
 	private BlockLinkReader rowReader;
 	private ObjectReader segmentReader;
 	
-	private long position; // ǰλ
-	private Object []minValues; // ǰÿеСֵ
-	private Object []maxValues; // ǰÿеֵ
+	private long position; // 当前块的位置
+	private Object []minValues; // 当前块的每个键列的最小值
+	private Object []maxValues; // 当前块的每个键列的最大值
 	
-	private int curRecordCount = 0; // ǰļ¼
-	private int curIndex = -1; // -1黹û
+	private int curRecordCount = 0; // 当前块的记录数
+	private int curIndex = -1; // 块内索引，等于-1则键块还没加载
 	private Object [][]blockKeyValues;
 	private boolean isEnd = false;
 	
@@ -70,7 +70,7 @@ class RowRecordSeqSearcher {
 				maxValues[k] = segmentReader.readObject();
 			}
 			
-			//ǶֶάȡһάֵΪmax
+			//如果是多字段维，则取最后一条维值作为max
 			if (keyCount > 1) {
 				loadKeyValues();
 				int idx = blockKeyValues[0].length - 1;
@@ -97,7 +97,7 @@ class RowRecordSeqSearcher {
 			}
 			
 			for (int i = 1; i < count; ++i) {
-				reader.skipObject();//α
+				reader.skipObject();//跳过伪号
 				for (int k = 0; k < keyCount; ++k) {
 					vals[k][i] = reader.readObject();
 				}
@@ -111,8 +111,8 @@ class RowRecordSeqSearcher {
 	}
 	
 	/**
-	 *  ֶʱ
-	 * ҵ򷵻ؼ¼ţҲ򷵻ظλ
+	 * 查找 （单字段主键时）
+	 * 如果能找到则返回记录序号，找不到则返回负插入位置
 	 * @param keyValue
 	 * @return
 	 */
@@ -165,8 +165,8 @@ class RowRecordSeqSearcher {
 	}
 	
 	/**
-	 *  ֶʱ
-	 * ҵ򷵻ؼ¼ţҲ򷵻ظλ
+	 * 查找 （多字段主键时）
+	 * 如果能找到则返回记录序号，找不到则返回负插入位置
 	 * @param keyValues
 	 * @return
 	 */
@@ -199,7 +199,7 @@ class RowRecordSeqSearcher {
 						}
 					}
 					
-					// 
+					// 都相等
 					curIndex = i;
 					return prevRecordCount + i;
 				}
@@ -7,14 +7,14 @@ import com.scudata.dm.ObjectReader;
 import com.scudata.util.Variant;
 
 /**
- * ¼ ã
+ * 记录查找器 （附表用）
  * @author runqian
  *
  */
 class RowRecordSeqSearcher2 {
 	private RowPhyTable table;
 	private RowPhyTable baseTable;
-	private long prevRecordCount = 0;//ǰѾȡļ¼
+	private long prevRecordCount = 0;//当前已经取出的记录数
 	private int curBlock = -1;
 	private int totalBlockCount;
 
@@ -23,13 +23,13 @@ class RowRecordSeqSearcher2 {
 	private BlockLinkReader baseRowReader;
 	private ObjectReader baseSegmentReader;
 	
-	private long position; // ǰλ
-	private long basePosition; // ǰλ
-	private Object []minValues; // ǰÿеСֵ
-	private Object []maxValues; // ǰÿеֵ
+	private long position; // 当前块的位置
+	private long basePosition; // 当前块的位置
+	private Object []minValues; // 当前块的每个键列的最小值
+	private Object []maxValues; // 当前块的每个键列的最大值
 	
-	private int curRecordCount = 0; // ǰļ¼
-	private int curIndex = -1; // -1黹û
+	private int curRecordCount = 0; // 当前块的记录数
+	private int curIndex = -1; // 块内索引，等于-1则键块还没加载
 	private Object [][]blockKeyValues;
 	private boolean isEnd = false;
 
@@ -130,8 +130,8 @@ class RowRecordSeqSearcher2 {
 			}
 			
 			for (int i = 1; i < count; ++i) {
-				reader.skipObject();//α
-				long seq = (Long) reader.readObject();//ȡα
+				reader.skipObject();//跳过伪号
+				long seq = (Long) reader.readObject();//取导伪号
 				guideVals[i] = seq;
 				
 				for (int k = baseKeyCount; k < colCount; ++k) {
@@ -141,10 +141,10 @@ class RowRecordSeqSearcher2 {
 					vals[k][i] = temp[keyIndex[k]];
 				}
 				
-				//ҶӦ
+				//主表里找对应的
 				while (seq != baseSeq) {
 					baseSeq = (Long) baseReader.readObject();
-					//ҵ˶
+					//找到了读出来
 					for (int k = 0; k < baseColCount; ++k) {
 						temp[k] = baseReader.readObject();
 					}
@@ -163,11 +163,11 @@ class RowRecordSeqSearcher2 {
 	}
 
 	/**
-	 * ҵ򷵻ؼ¼ţҲ򷵻ظλ
-	 * ӱinsertʱ¼ڣӦ÷ضӦα
-	 * ӱupdateʱupdate
+	 * 如果能找到则返回记录序号，找不到则返回负插入位置
+	 * 子表insert时，如果记录存在，还应该返回对应主表列区的伪号
+	 * 子表update时，必须先update主表；
 	 * @param keyValue 
-	 * @param block Ǹblock[0]ҵĿ
+	 * @param block 这是个输出参数。block[0]是找到的块号
 	 * @return
 	 */
 	public long findNext(Object keyValue, int block[]) {
@@ -194,7 +194,7 @@ class RowRecordSeqSearcher2 {
 					}
 				}
 				
-				//ÿһεĵײλ
+				//每一段的底部位置
 				curIndex = curRecordCount;
 				block[0] = curBlock + 1;
 				return -prevRecordCount - curIndex;
@@ -219,12 +219,12 @@ class RowRecordSeqSearcher2 {
 	}
 	
 	/**
-	 * ֶĲ
-	 * ҵ򷵻ؼ¼ţҲ򷵻ظλ
-	 * ӱinsertʱ¼ڣӦ÷ضӦα
-	 * ӱupdateʱupdate
+	 * 多字段主键的查找
+	 * 如果能找到则返回记录序号，找不到则返回负插入位置
+	 * 子表insert时，如果记录存在，还应该返回对应主表列区的伪号
+	 * 子表update时，必须先update主表；
 	 * @param keyValue 
-	 * @param block Ǹblock[0]ҵĿ
+	 * @param block 这是个输出参数。block[0]是找到的块号
 	 * @return
 	 */
 	public long findNext(Object []keyValues, int block[]) {
@@ -234,7 +234,7 @@ class RowRecordSeqSearcher2 {
 		}
 
 		if (0 == curRecordCount) {
-			//Ǹտ
+			//如果是个空块
 			int cmp = Variant.compareArrays(keyValues, maxValues, baseKeyCount);
 			if (cmp <= 0) {
 				block[0] = curBlock + 1;
@@ -275,12 +275,12 @@ class RowRecordSeqSearcher2 {
 						}
 					}
 					
-					// 
+					// 都相等
 					curIndex = i;
 					return prevRecordCount + i;
 				}
 
-				//ÿһεĵײλ
+				//每一段的底部位置
 				curIndex = curRecordCount;
 				block[0] = curBlock + 1;
 				return -prevRecordCount - curIndex;
@@ -314,7 +314,7 @@ class RowRecordSeqSearcher2 {
 	}
 	
 	/**
-	 * ңزλ
+	 * 查找，不返回插入位置
 	 * @param keyValues
 	 * @param keyLen
 	 * @return
@@ -344,7 +344,7 @@ class RowRecordSeqSearcher2 {
 						}
 					}
 					
-					// 
+					// 都相等
 					curIndex = i + 1;
 					return prevRecordCount + i;
 				}
@@ -368,7 +368,7 @@ class RowRecordSeqSearcher2 {
 		}
 	}
 	
-	//صǰα
+	//返回当前条在主表列区的伪号
 	long getRecNum() {
 		if (isEnd || guideVals == null) {
 			return 0;
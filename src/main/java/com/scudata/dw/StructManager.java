@@ -1,16 +1,16 @@
 package com.scudata.dw;
 
 /**
- * ṹ
+ * 结构管理器
  */
 import java.util.ArrayList;
 
 import com.scudata.dm.DataStruct;
 
 public final class StructManager {
-	private ArrayList<DataStruct> dsList; // еݽṹ
-	private transient DataStruct prevDs; // ǰһֶεݽṹ
-	private transient int prevDsID = -1; // ݽṹıʶdsListе
+	private ArrayList<DataStruct> dsList; // 复列的数据结构
+	private transient DataStruct prevDs; // 前一个引用字段的数据结构
+	private transient int prevDsID = -1; // 数据结构的标识，即在dsList中的索引
 	
 	public StructManager() {
 		dsList = new ArrayList<DataStruct>();
@@ -33,7 +33,7 @@ import com.scudata.expression.operator.Smaller;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ΪJoinTableCursorṩȡ
+ * 为JoinTableCursor类提供取数的类
  * @author runqian
  *
  */
@@ -44,23 +44,23 @@ public class TableCursor extends IDWCursor {
 	
 	private IFilter []filters;
 	private FindFilter[] findFilters;
-	private int []seqs; // colReadersӦֶκţֶοܲѡ
+	private int []seqs; // colReaders对应的字段号，过滤字段可能不选出
 	
 	private ColumnMetaData []columns;
 	private BlockLinkReader rowCountReader;
 	private BlockLinkReader []colReaders;
 	private ObjectReader []segmentReaders;
 	
-	private ColumnMetaData guideColumn;//
+	private ColumnMetaData guideColumn;//导列
 	private BlockLinkReader guideColReader;
 	private ObjectReader guideSegmentReader;
 	
-	private int startBlock; // 
-	private int endBlock; // 
+	private int startBlock; // 包含
+	private int endBlock; // 不包含
 	private int curBlock = 0;
 	
-	private long prevRecordSeq = 0; // ǰһ¼
-	private int []findex; // ѡֶζӦֶκ
+	private long prevRecordSeq = 0; // 前一条记录的序号
+	private int []findex; // 选出字段对应的字段号
 	private ArrayList<ModifyRecord> modifyRecords;
 	private int mindex = 0;
 	private int mcount = 0;
@@ -117,7 +117,7 @@ public class TableCursor extends IDWCursor {
 	}
 	
 	/**
-	 * ÷ֶstartBlockendBlock
+	 * 设置分段startBlock包含，endBlock不包含
 	 */
 	public void setSegment(int startBlock, int endBlock) {
 		this.startBlock = startBlock;
@@ -128,7 +128,7 @@ public class TableCursor extends IDWCursor {
 			return;
 		}
 		
-		boolean isPrimaryTable = table.parent == null; // Ƿ
+		boolean isPrimaryTable = table.parent == null; // 是否主表
 		ColumnMetaData []columns = this.columns;
 		BlockLinkReader rowCountReader = this.rowCountReader;
 		int colCount = columns.length;
@@ -188,7 +188,7 @@ public class TableCursor extends IDWCursor {
 			
 			this.prevRecordSeq = prevRecordSeq;
 			if (prevRecordSeq > 0 && mcount > 0) {
-				// ҲҪӦֶ
+				// 补区也要相应地做分段
 				ArrayList<ModifyRecord> modifyRecords = this.modifyRecords;
 				int mindex = 0;
 				for (ModifyRecord r : modifyRecords) {
@@ -443,7 +443,7 @@ public class TableCursor extends IDWCursor {
 		endBlock = table.getDataBlockCount();
 		ColumnMetaData []columns;
 
-		//ӱĹͬͼ̳
+		//处理子表对主表的共同和继承
 		boolean isPrimaryTable = table.parent == null;
 		
 		if (fields == null) {
@@ -535,7 +535,7 @@ public class TableCursor extends IDWCursor {
 		IArray mems = cache.getMems();
 		this.cache = null;
 		
-		boolean isPrimaryTable = table.parent == null; // Ƿ
+		boolean isPrimaryTable = table.parent == null; // 是否主表
 		BlockLinkReader guideColReader = null;
 		BufferReader guideColBufReader = null;
 		long guidePos = 0;
@@ -600,7 +600,7 @@ public class TableCursor extends IDWCursor {
 							Object minValue = segmentReaders[f].readObject();
 							Object maxValue = segmentReaders[f].readObject();
 							segmentReaders[f].skipObject();
-							if (!filters[f].match(minValue, maxValue)) {
+							if (!filters[f].match(minValue, maxValue, curBlock - 1)) {
 								++f;
 								sign = false;
 								break;
@@ -711,7 +711,7 @@ public class TableCursor extends IDWCursor {
 //						break;
 //					}
 					
-					//ȡһξ˳
+					//取一段就退出
 					//this.cache = cache;
 					break;
 				}
@@ -786,7 +786,7 @@ public class TableCursor extends IDWCursor {
 		ModifyRecord mr = modifyRecords.get(mindex);
 		long mseq = mr.getRecordSeq();
 		
-		boolean isPrimaryTable = table.parent == null; // Ƿ
+		boolean isPrimaryTable = table.parent == null; // 是否主表
 		BlockLinkReader guideColReader = null;
 		BufferReader guideColBufReader = null;
 		long seqNum = 0;
@@ -827,7 +827,7 @@ public class TableCursor extends IDWCursor {
 							}
 							mems.add(r);
 						} else {
-							// ܲ
+							// 可能插入多条
 							boolean isInsert = true;
 							while (true) {
 								if (mr.isBottom()) {
@@ -848,10 +848,10 @@ public class TableCursor extends IDWCursor {
 									
 									if (isInsert) {
 										if (isPrimaryTable) {
-											r.setRecordSeq(-mindex);//Ƿز
+											r.setRecordSeq(-mindex);//主表就是返回补区的序号
 										} else {
-											//keyֵ
-											r.setRecordSeq(mr.getParentRecordSeq());//ҲǸֵʾĲ
+											//根据key值找
+											r.setRecordSeq(mr.getParentRecordSeq());//这里也可能是个负值，表示在主表的补区
 										}
 									} else {
 										if (isPrimaryTable) {
@@ -896,7 +896,7 @@ public class TableCursor extends IDWCursor {
 						}
 					}
 
-					//TODO 뵽ײļ¼
+					//TODO 处理插入到底部的记录
 					while (mr.getBlock() == curBlock) {
 						Record sr = mr.getRecord();
 						ComTableRecord r = new ComTableRecord(ds);
@@ -908,7 +908,7 @@ public class TableCursor extends IDWCursor {
 							MessageManager mm = EngineMessage.get();
 							throw new RQException(sr.toString(null) + mm.getMessage("grouptable.invalidData"));
 						} else {
-							r.setRecordSeq(mr.getParentRecordSeq());//ҲǸֵʾĲ
+							r.setRecordSeq(mr.getParentRecordSeq());//这里也可能是个负值，表示在主表的补区
 						}
 						
 						mems.add(r);
@@ -955,7 +955,7 @@ public class TableCursor extends IDWCursor {
 							Object minValue = segmentReaders[f].readObject();
 							Object maxValue = segmentReaders[f].readObject();
 							segmentReaders[f].skipObject();
-							if (!filters[f].match(minValue, maxValue)) {
+							if (!filters[f].match(minValue, maxValue, curBlock - 1)) {
 								++f;
 								sign = false;
 								break;
@@ -1034,7 +1034,7 @@ public class TableCursor extends IDWCursor {
 							while (true) {
 								if (mr.isDelete()) {
 									isInsert = false;
-									//deleteˣ򷵻һռ¼
+									//如果delete了，则返回一条空记录
 //									GroupTableRecord r = new GroupTableRecord(ds);
 //									if (isPrimaryTable) {
 //										r.setRecordSeq(prevRecordSeq);
@@ -1056,10 +1056,10 @@ public class TableCursor extends IDWCursor {
 									
 									if (isInsert) {
 										if (isPrimaryTable) {
-											r.setRecordSeq(-mindex);//Ƿز
+											r.setRecordSeq(-mindex);//主表就是返回补区的序号
 										} else {
-											//keyֵ
-											r.setRecordSeq(mr.getParentRecordSeq());//ҲǸֵʾĲ
+											//根据key值找
+											r.setRecordSeq(mr.getParentRecordSeq());//这里也可能是个负值，表示在主表的补区
 										}
 									} else {
 										if (isPrimaryTable) {
@@ -1159,7 +1159,7 @@ public class TableCursor extends IDWCursor {
 		IFilter []filters = this.filters;
 		long prevRecordSeq = this.prevRecordSeq;
 		
-		boolean isPrimaryTable = table.parent == null; // Ƿ
+		boolean isPrimaryTable = table.parent == null; // 是否主表
 		BlockLinkReader guideColReader = null;
 		if (!isPrimaryTable) {
 			guideColReader = this.guideColReader;
@@ -1207,7 +1207,7 @@ public class TableCursor extends IDWCursor {
 					} else {
 						guideSegmentReader.readLong40();
 					}
-					//ȡһξ˳
+					//取一段就退出
 					break;
 				}
 			}
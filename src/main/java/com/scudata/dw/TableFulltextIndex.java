@@ -32,12 +32,12 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.EnvUtil;
 
 /**
- * ȫ
+ * 全文索引
  * @author runqian
  *
  */
 public class TableFulltextIndex extends PhyTableIndex {
-	private static final int LIMIT = 1000000;//Ƶֵ
+	private static final int LIMIT = 1000000;//高频词限制数，超过这个值就抛弃
 	
 	public TableFulltextIndex(PhyTable table, FileObject indexFile) {
 		super(table, indexFile);
@@ -54,16 +54,16 @@ public class TableFulltextIndex extends PhyTableIndex {
 		writer.write('w');
 		writer.write('i');
 		writer.write('d');
-		writer.write('w');//ģѯ
+		writer.write('w');//模糊查询索引
 
 		writer.write(new byte[32]);
 		writer.writeLong64(recordCount);
 		writer.writeLong64(index1EndPos);
 		writer.writeLong64(index1RecordCount);
-		writer.writeLong64(rootItPos);// ָroot1 info ʼλ
-		writer.writeLong64(rootItPos2);// ָroot2 info ʼλ
-		writer.writeLong64(indexPos);// 1st index ʼλ
-		writer.writeLong64(indexPos2);// second index ʼλ
+		writer.writeLong64(rootItPos);// 指向root1 info 开始位置
+		writer.writeLong64(rootItPos2);// 指向root2 info 开始位置
+		writer.writeLong64(indexPos);// 1st index 开始位置
+		writer.writeLong64(indexPos2);// second index 开始位置
 		
 		writer.writeStrings(ifields);
 		if (filter != null) {
@@ -100,7 +100,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 	}
 	
 	/**
-	 * ַkeyֵĴ
+	 * 检查字符key出现的次数
 	 * @param strCounters
 	 * @param key
 	 * @return
@@ -166,9 +166,9 @@ public class TableFulltextIndex extends PhyTableIndex {
 			}
 
 			Runtime rt = Runtime.getRuntime();
-			int baseCount = 100000;//ÿȡ
-			boolean flag = false;//ǷʱļС
-			HashMap<String, Long> strCounters = new HashMap<String, Long>();//¼ÿֵַĴ
+			int baseCount = 100000;//每次取出来的条数
+			boolean flag = false;//是否调整过临时文件大小
+			HashMap<String, Long> strCounters = new HashMap<String, Long>();//记录每个字符出现的次数
 			int fieldsCount;
 			if (isColTable) {
 				fieldsCount = ((CTableCursor)srcCursor).ds.getFieldCount();
@@ -218,16 +218,16 @@ public class TableFulltextIndex extends PhyTableIndex {
 					}
 					String ifield = (String) objs[0];
 					
-					list.clear();//жظַ"ʿ"ظ""ֲܱظ
+					list.clear();//用于判断重复的字符，例如"宝宝巴士"，重复的"宝"字不能被重复索引
 					int strLen = ifield.length();
 					for (int j = 0; j < strLen; j++) {
 						char ch1 = ifield.charAt(j);
 						if (ch1 == ' ') {
-							continue;//ո
+							continue;//空格
 						}
 						
 						if (checkAlpha(ch1)) {
-							//ӢҪȡ34ĸ
+							//英文要连续取3个、4个字母
 							if (j + 2 < strLen) {
 								char ch2 = ifield.charAt(j + 1);
 								char ch3 = ifield.charAt(j + 2);
@@ -263,9 +263,9 @@ public class TableFulltextIndex extends PhyTableIndex {
 						} else if (ch1 > 255) {
 							String str = new String("" + ch1);
 							if (list.contains(str)) {
-								continue;//Ѿ
+								continue;//已经存在
 							}				
-							//
+							//处理计数器
 							if (checkStringCount(strCounters, str)) {
 								continue;
 							}
@@ -324,7 +324,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 	}
 	
 	/**
-	 * 
+	 * 创建索引
 	 */
 	protected void createIndexTable(ICursor cursor, FileObject indexFile, boolean isAppends) {
 		RandomOutputStream os = indexFile.getRandomOutputStream(true);
@@ -333,10 +333,10 @@ public class TableFulltextIndex extends PhyTableIndex {
 		long perCount = MAX_LEAF_BLOCK_COUNT;
 
 		ArrayList<Record> maxValues = new ArrayList<Record>();
-		Record []rootMaxValues;// rootֵ
-		long []positions; // internalļеʼλ
-		long []rootPositions; // rootļеʼλ
-		int blockCount = 0; // 
+		Record []rootMaxValues;// root索引块的最大值
+		long []positions; // internal索引块在文件中的起始位置
+		long []rootPositions; // root索引块在文件中的起始位置
+		int blockCount = 0; // 索引块数
 		long itPos;
 		
 		Context ctx = new Context();
@@ -384,7 +384,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 					for (int i = 0; i < len; ++i) {
 						r = (Record)mems.get(i + p);
 						writer.writeObject(r.getNormalFieldValue(icount));
-						//дʱҪѵַҲд
+						//行存时，要把地址也都写下来
 						for (int j = 1; j <= posCount; ++j) {
 							writer.writeObject(r.getNormalFieldValue(icount + j));
 						}
@@ -439,7 +439,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 					
 					for (int j = 0; j < count; ++j) {
 						reader.readLong();
-						//дʱҪѵַҲ
+						//行存时，要把地址也都跳过
 						for (int c = 0; c < posCount; ++c) {
 							reader.readLong();
 						}
@@ -447,7 +447,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 				}
 			}
 			
-			itPos = reader.position();//interBlockʼλ
+			itPos = reader.position();//interBlock开始位置
 		} catch (IOException e) {
 			throw new RQException(e.getMessage(), e);
 		} finally {
@@ -484,7 +484,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 			} catch (IOException ie){};
 		}
 		
-		//rootMaxValues 
+		//获得rootMaxValues 
 		int rootBlockCount = (blockCount/MAX_INTER_BLOCK_COUNT);
 		rootBlockCount += (blockCount % MAX_INTER_BLOCK_COUNT==0) ? 0 : 1;
 		rootMaxValues = new Record[rootBlockCount];
@@ -493,12 +493,12 @@ public class TableFulltextIndex extends PhyTableIndex {
 		}
 		rootMaxValues[rootBlockCount - 1] = maxValues.get(blockCount - 1);
 		
-		// rootPositions
+		//获得 rootPositions
 		rootPositions = new long[rootBlockCount];
 		is = indexFile.getInputStream();
 		reader = new ObjectReader(is, BUFFER_SIZE);
 		try {
-			reader.seek(itPos);//λinternalBlock start
+			reader.seek(itPos);//定位到internalBlock start
 			for (int i = 0; i < blockCount; ++i) {
 				if (i % MAX_INTER_BLOCK_COUNT == 0){
 					rootPositions[i/MAX_INTER_BLOCK_COUNT] = reader.position();
@@ -528,11 +528,11 @@ public class TableFulltextIndex extends PhyTableIndex {
 			rootItPos = itPos;
 			rootItPos2 = 0;
 			recordCount = srcTable.getTotalRecordCount();
-			index1RecordCount = recordCount;//1ļ¼˺
-			index1EndPos = srcTable.getTotalRecordCount();//1ʱԴǱ˺ģҲ
+			index1RecordCount = recordCount;//1区里的记录条数，过滤后的
+			index1EndPos = srcTable.getTotalRecordCount();//建立1区时源表里的条数，不是被条件过滤后的，也不包含补区
 		}
 
-		//дrootMaxValues rootPositions
+		//写rootMaxValues rootPositions
 		os = indexFile.getRandomOutputStream(true);
 		writer = new RandomObjectWriter(os);
 		try {
@@ -546,7 +546,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 				writer.writeLong(rootPositions[i]);
 			}
 			
-			writer.writeLong64(blockCount);//internalܸ
+			writer.writeLong64(blockCount);//internal块的总个数
 		} catch (IOException e) {
 			throw new RQException(e.getMessage(), e);
 		} finally {
@@ -574,9 +574,9 @@ public class TableFulltextIndex extends PhyTableIndex {
 	}
 	
 	/**
-	 * ѯ
-	 * @param exp ˱ʽ
-	 * @param fields ȡֶ
+	 * 查询
+	 * @param exp 过滤表达式
+	 * @param fields 取出字段
 	 * @param opt 
 	 * @param ctx
 	 */
@@ -590,7 +590,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 		}
 
 		Node home = exp.getHome();
-		//like(F,"*xxx*")ʽ
+		//处理like(F,"*xxx*")表达式
 		while (home instanceof Like) {
 			if (((Like) home).getParam().getSubSize() != 2) {
 				break;
@@ -602,7 +602,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 				break;
 			}
 			
-			//like("*ؼ*")ʽġͨĴ
+			//必须是like("*关键字*")格式的。否则按照普通的处理
 			String fmtExp = (String) sub2.getLeafExpression().calculate(ctx);
 			int idx = fmtExp.indexOf("*");
 			if (idx != 0) {
@@ -663,26 +663,26 @@ public class TableFulltextIndex extends PhyTableIndex {
 			recCountOfSegment = ((ColPhyTable)srcTable).getSegmentInfo();
 		}
 		
-		//ÿؼַйˣ󽻼
+		//对每个关键字符进行过滤，求交集
 		String regex = "[a-zA-Z0-9]+";
 		String search = "";
 		LongArray tempPos = null;
 		int strLen = fmtExp.length();
 		int j;
-		int p = 0;//ʾλ
+		int p = 0;//表示处理到的位置
 		for (j = 0; j < strLen; ) {
 			String str = fmtExp.substring(j, j + 1);
 			p = j + 1;
 			if (str.matches(regex)) {
-				//Ӣ
-				//ȡ4ĸ
+				//英文
+				//尝试连续取4个字母
 				if (j + 3 < strLen) {
 					String str4 = fmtExp.substring(j, j + 4);
 					if (str4.matches(regex)) {
 						str = str4;
 						p = j + 4;
 					}
-				} else if (j + 2 < strLen) {//ȡ3ĸ
+				} else if (j + 2 < strLen) {//尝试连续取3个字母
 					String str3 = fmtExp.substring(j, j + 3);
 					if (str3.matches(regex)) {
 						str = str3;
@@ -692,7 +692,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 			}
 			j++;
 			if (search.indexOf(str) >= 0) {
-				continue;//ظĲٲѯ
+				continue;//重复的不再查询
 			}
 			search = fmtExp.substring(0, p);
 			Expression tempExp = new Expression(f + "==\"" + str + "\"");
@@ -707,7 +707,7 @@ public class TableFulltextIndex extends PhyTableIndex {
 				sort = false;
 			}
 			
-			//򣬹鲢󽻼
+			//排序，归并求交集
 			if (isRow) {
 				tempPos = PhyTable.longArrayUnite(tempPos, srcPos.toArray(), getPositionCount(), sort);
 				if (tempPos.size() <= ITableIndex.MIN_ICURSOR_REC_COUNT) {
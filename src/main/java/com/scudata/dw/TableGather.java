@@ -19,22 +19,22 @@ import com.scudata.expression.operator.DotOperator;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ʵֶαʽf()
+ * 用于实现字段表达式的f()
  * @author runqian
  *
  */
 public class TableGather {
-	private ICursor cs;//Դα
-	private int calcType;//
+	private ICursor cs;//源游标
+	private int calcType;//计算类型
 	private Sequence data;
 	private PhyTable table;
-	private ComTableRecord curRecord;//ǰ¼
-	private int cur;//
-	private int len;//ǰ
-	private long recSeq;//ǰα
+	private ComTableRecord curRecord;//当前记录
+	private int cur;//序号
+	private int len;//当前个数
+	private long recSeq;//当前伪号
 	private Sequence temp;
 	private static String []funName = {"field","sum","count","max","min","avg","top","iterate"};
-	private String []subNames;//ֶ
+	private String []subNames;//子字段名
 	
 	private boolean isRow;
 	
@@ -44,7 +44,7 @@ public class TableGather {
 	public TableGather(PhyTable baseTable,Expression exp, Context ctx) {
 		Node home = exp.getHome();
 		if (!(home instanceof DotOperator) && !(home instanceof Moves)) {
-			return;//ĿǰֻT.C / T.f(C) / T{}
+			return;//目前只解析T.C / T.f(C) / T{}
 		}
 		
 		Object obj = home.getLeft();
@@ -147,7 +147,7 @@ public class TableGather {
 		}
 		ComTableRecord r = (ComTableRecord) data.getMem(cur);
 		
-		//ҵһͬ
+		//找到第一个相同的
 		while (seq != recSeq) {
 			cur++;
 			if (cur > len) {
@@ -158,7 +158,7 @@ public class TableGather {
 			recSeq = r.getRecordSeq();
 		}
 		
-		//ȡͬ
+		//取出所有相同的
 		Sequence temp = this.temp;
 		temp.clear();
 		while (seq == recSeq) {
@@ -175,11 +175,11 @@ public class TableGather {
 			recSeq = r.getRecordSeq();
 		}
 		
-		//ָ
+		//指向
 		this.cur = cur;
 		this.recSeq = recSeq;
 		
-		//
+		//计算
 		Object result = null;
 		switch (calcType) {
 		case 0 : 
@@ -29,7 +29,7 @@ import com.scudata.util.EnvUtil;
 import com.scudata.util.Variant;
 
 /**
- * ϣ
+ * 哈希索引
  * @author runqian
  *
  */
@@ -37,27 +37,28 @@ public class TableHashIndex  implements ITableIndex {
 
 	private static final int BUFFER_SIZE = 1024;
 	private static final int POSITION_SIZE = 5;
-	private static final long MAX_DIRECT_POS_SIZE = 1000000000;//ֱӵַ
+	private static final long MAX_DIRECT_POS_SIZE = 1000000000;//允许建立直接地址的最大条数
 	public static final int MAX_SEC_RECORD_COUNT = 100000;//max count of index2
 	
-	private long recordCount = 0; // Դ¼
-	private long index1RecordCount = 0; // 1¼
-	private long index1EndPos = 0; // 1ʱԴļ¼λ
-	private String []ifields; // ֶ
+	private long recordCount = 0; // 源记录数
+	private long index1RecordCount = 0; // 索引1记录数
+	private long index1EndPos = 0; // 索引1建立时源文件记录结束位置
+	private String []ifields; // 索引字段名字
 	
 	private String name;
 	private PhyTable srcTable;
 	private FileObject indexFile;
-	private long hashPos;//hashĵַ
-	private int capacity;//ϣsize
-	private int h;//hash ܶ
-	private int positionCount;//ַʱ2
+	private long hashPos;//hash表的地址
+	private int capacity;//哈希size
+	private int h;//hash 密度
+	private int positionCount;//地址个数（附表时才是2）
 	private Expression filter;
 	
-	private boolean isDirectPos;//ֱӵַã޳ͻʱ
+	private boolean isDirectPos;//是直接地址（特殊情况用，比如无冲突时）
 	private long baseOffset;
 	private byte [][]cache;
 	private transient int maxRecordLen = 0;
+	private transient IndexPageCache.PageFile pageFile; // 索引文件在页缓存中的当前版本
 	
 	private static final int []PRIMES = new int []{
 			13, 19, 29, 41, 59, 79, 107, 149, 197, 263, 347, 457, 599, 787, 1031,
@@ -98,7 +99,7 @@ public class TableHashIndex  implements ITableIndex {
 	}	
 
 	/**
-	 * ڽʱȡαźhashֵ
+	 * 用于建立索引时取数、伪号和hash值，不包含补区
 	 * @author runqian
 	 *
 	 */
@@ -120,8 +121,8 @@ public class TableHashIndex  implements ITableIndex {
 		private Sequence cache;
 		private boolean isClosed = false;
 		
-		private long curNum = 0;//ȫּ¼
-		private int capacity;//ϣsize
+		private long curNum = 0;//全局记录号
+		private int capacity;//哈希size
 
 		public CHashCursor(PhyTable table, String []fields, Context ctx, Expression filter, int capacity) {
 			this.table = (ColPhyTable) table;
@@ -140,7 +141,7 @@ public class TableHashIndex  implements ITableIndex {
 				fields = table.getColNames();
 			}
 			
-			//ʽʱҪȡ
+			//有条件表达式时要取出所有
 			if (filter != null) {
 				columns = table.getColumns();
 			} else {
@@ -463,11 +464,11 @@ public class TableHashIndex  implements ITableIndex {
 		private int curBlock = 0;
 		private Sequence cache;
 		private boolean isClosed = false;
-		private boolean isPrimaryTable; // Ƿ
+		private boolean isPrimaryTable; // 是否主表
 		
-		private int capacity;//ϣsize
+		private int capacity;//哈希size
 		
-		private RHashCursor parentCursor;//α
+		private RHashCursor parentCursor;//主表游标
 		private Record curPkey;
 		private long pseq;
 
@@ -485,7 +486,7 @@ public class TableHashIndex  implements ITableIndex {
 			init();
 		}
 		
-		//filterֶҪ
+		//filter里的字段要读出来
 		private void parseFilter(Node node) {
 			if (node == null) return;
 			if (node instanceof UnknownSymbol) {
@@ -559,7 +560,7 @@ public class TableHashIndex  implements ITableIndex {
 			 while (pseq != this.pseq) {
 				Sequence pkeyData = parentCursor.fetch(1);
 				if (pkeyData == null) {
-					//ȡˣﲻӦûݣ쳣
+					//主表取到最后了，附表里不应该还有数据，抛异常
 					MessageManager mm = EngineMessage.get();
 					throw new RQException("index " + mm.getMessage("grouptable.invalidData"));
 				}
@@ -622,8 +623,8 @@ public class TableHashIndex  implements ITableIndex {
 			
 			ObjectReader rowDataReader = this.rowDataReader;
 			long pos;
-			long seq;//α
-			long pseq = 0;//α
+			long seq;//伪号
+			long pseq = 0;//导列伪号
 			boolean isPrimaryTable = this.isPrimaryTable;
 			int startIndex;
 			if (isPrimaryTable) {
@@ -660,7 +661,7 @@ public class TableHashIndex  implements ITableIndex {
 							pos = calcPosition(rowReader, rowDataReader);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f])
@@ -703,7 +704,7 @@ public class TableHashIndex  implements ITableIndex {
 								pos = calcPosition(rowReader, rowDataReader);
 								seq = rowDataReader.readLong();
 								if (!isPrimaryTable) {
-									pseq = rowDataReader.readLong();//
+									pseq = rowDataReader.readLong();//跳过导列
 								}
 								for (int f = startIndex; f < allCount; ++f) {
 									if (needRead[f])
@@ -761,7 +762,7 @@ public class TableHashIndex  implements ITableIndex {
 							pos = calcPosition(rowReader, rowDataReader);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f])
@@ -794,7 +795,7 @@ public class TableHashIndex  implements ITableIndex {
 							pos = calcPosition(rowReader, rowDataReader);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//跳过导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f])
@@ -825,7 +826,7 @@ public class TableHashIndex  implements ITableIndex {
 							pos = calcPosition(rowReader, rowDataReader);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f])
@@ -897,7 +898,7 @@ public class TableHashIndex  implements ITableIndex {
 					for (int i = 0; i < recordCount; ++i) {
 						rowDataReader.readLong();
 						if (!isPrimaryTable) {
-							rowDataReader.readLong();//
+							rowDataReader.readLong();//导列
 						}
 						for (int f = 0; f < allCount; ++f) {
 							rowDataReader.readObject();
@@ -946,10 +947,10 @@ public class TableHashIndex  implements ITableIndex {
 	}
 	
 	/**
-	 * ڴ
-	 * @param table ԭ
-	 * @param indexName 
-	 * @param h ϣܶ
+	 * 用于创建
+	 * @param table 原表
+	 * @param indexName 索引名称
+	 * @param h 哈希密度
 	 */
 	public TableHashIndex(PhyTable table, String indexName, int h) {
 		this(table, indexName);
@@ -1058,17 +1059,17 @@ public class TableHashIndex  implements ITableIndex {
 	}
 	
 	/**
-	 * 
-	 * @param fields ֶ
-	 * @param opt 'a'ʱʾ׷
-	 * @param ctx 
-	 * @param filter 
+	 * 创建索引
+	 * @param fields 索引字段
+	 * @param opt 包含'a'时表示追加
+	 * @param ctx 上下文
+	 * @param filter 过滤
 	 */
 	public void create(String []fields, String opt, Context ctx, Expression filter) {
 		int icount = fields.length;
-		boolean isAppend = false;//׷ӻ½
-		boolean isAdd = true;//ǷҪtable
-		boolean isReset = false;//ؽ
+		boolean isAppend = false;//追加还是新建
+		boolean isAdd = true;//是否需要添加索引到table
+		boolean isReset = false;//重建
 		
 		if (indexFile.size() > 0) {
 			if ((opt == null) ||(opt != null && opt.indexOf('a') == -1)) {
@@ -1077,11 +1078,11 @@ public class TableHashIndex  implements ITableIndex {
 			}
 		}
 		
-		//ǷԴֱӵַ
+		//检查是否可以存直接地址
 		boolean isDirctPos = false;
 		long baseOffset = 0;
 		long capacity = 0;
-		boolean isPrimaryKey = false;//Ƿ
+		boolean isPrimaryKey = false;//是否对主键建立索引
 		String[] keyNames = srcTable.getAllSortedColNames();
 		if (srcTable.hasPrimaryKey 
 				&& keyNames != null 
@@ -1122,8 +1123,8 @@ public class TableHashIndex  implements ITableIndex {
 				throw new RQException(e.getMessage(), e);
 			}
 			len = ((Number)max).longValue() - ((Number)min).longValue() + 1;
-			if (len > MAX_DIRECT_POS_SIZE) break;//̫˲
-			if (len != srcTable.getTotalRecordCount()) break;//step1
+			if (len > MAX_DIRECT_POS_SIZE) break;//太大了不行
+			if (len != srcTable.getTotalRecordCount()) break;//step不等于1
 			isDirctPos = true;
 			baseOffset = ((Number)min).longValue();
 			capacity = len + 1;
@@ -1182,7 +1183,8 @@ public class TableHashIndex  implements ITableIndex {
 					ICursor cursor = new MergesCursor(cursors, exps, ctx);				
 					createIndexTable(cursor, indexFile, true);
 				}
-				srcTable.getTableMetaDataIndex(indexFile, null, false);//׷ӺҪcache
+				srcTable.getTableMetaDataIndex(indexFile, null, false);//追加后要清除cache
+				removePages();
 			} catch (IOException e) {
 				throw new RQException(e.getMessage(), e);
 			} finally {
@@ -1230,18 +1232,20 @@ public class TableHashIndex  implements ITableIndex {
 				ICursor []cursors = new ICursor[size];
 				cursorList.toArray(cursors);
 				Expression []exps = new Expression[2];
-				exps[0] = new Expression(ctx, "#" + (icount + 2));//hash ֶ
-				exps[1] = new Expression(ctx, "#" + (icount + 1));//αֶ
+				exps[0] = new Expression(ctx, "#" + (icount + 2));//hash 字段
+				exps[1] = new Expression(ctx, "#" + (icount + 1));//伪号字段
 				
 				ICursor cursor = new MergesCursor(cursors, exps, ctx);
 				createIndexTable(cursor, tmpFile, false);
 			}
 			
-			srcTable.getTableMetaDataIndex(indexFile, null, false);//׷ӺҪcache
+			srcTable.getTableMetaDataIndex(indexFile, null, false);//追加后要清除cache
 			if (needDelete) {
 				indexFile.delete();
 				tmpFile.move(indexFile.getFileName(), null);
 			}
+			
+			removePages();
 			try {
 				if (isAdd) {
 					srcTable.addIndex(name, ifields, null);
@@ -1253,9 +1257,9 @@ public class TableHashIndex  implements ITableIndex {
 	}
 
 	/**
-	 * ֱӴַ
-	 * @param capacity	
-	 * @param baseOffset	ʼ¼keyֵ
+	 * 创建直接存地址的索引
+	 * @param capacity	总条数
+	 * @param baseOffset	起始记录的key值
 	 * @param cursor
 	 * @param indexFile
 	 * @param isAppends
@@ -1275,7 +1279,7 @@ public class TableHashIndex  implements ITableIndex {
 				writeHeader(writer);
 				hashPos = writer.position();
 				writer.position(0);
-				writeHeader(writer);//дhashPos
+				writeHeader(writer);//写hashPos
 				
 				writer.flush();
 			}
@@ -1332,7 +1336,7 @@ public class TableHashIndex  implements ITableIndex {
 				writeHeader(writer);
 				hashPos = writer.position();
 				writer.position(0);
-				writeHeader(writer);//дhashPos
+				writeHeader(writer);//写hashPos
 				
 				writer.flush();
 				indexFile.setFileSize(hashPos + capacity * POSITION_SIZE);
@@ -1362,13 +1366,13 @@ public class TableHashIndex  implements ITableIndex {
 					for (int f = 0; f <= icount; ++f) {
 						writer.writeObject(r.getNormalFieldValue(f));
 					}
-					//дʱҪѵַҲд
+					//行存时，要把地址也都写下来
 					for (int j = 1; j <= posCount; ++j) {
 						writer.writeObject(r.getNormalFieldValue(icount + j + 1));
 					}
 				}
 				endPos = writer.position();
-				//ǷҪ 
+				//是否必要？ 
 				writer.flush();
 
 				table = cursor.fetchGroup(ifs);
@@ -1388,7 +1392,7 @@ public class TableHashIndex  implements ITableIndex {
 	}
 	
 	/**
-	 * positionλöȡѾڵļ¼table
+	 * 从position位置读取已经存在的记录到table里
 	 * @param indexFile
 	 * @param position
 	 * @param table
@@ -1415,7 +1419,7 @@ public class TableHashIndex  implements ITableIndex {
 			for (int f = 0; f <= icount; ++f) {
 				r.setNormalFieldValue(f, reader.readObject());
 			}
-			//дʱҪѵַҲд
+			//行存时，要把地址也都写下来
 			for (int j = 1; j <= posCount; ++j) {
 				r.setNormalFieldValue(icount + j + 1, reader.readObject());
 			}
@@ -1456,7 +1460,7 @@ public class TableHashIndex  implements ITableIndex {
 				ifields[i] = fields[i];
 			}
 			
-			//ǷǶ
+			//检查是否是对主键建立索引
 			keyNames = srcTable.getSortedColNames();
 			if (srcTable.isSorted && keyNames != null) {
 				boolean isKeyField = true;
@@ -1478,8 +1482,8 @@ public class TableHashIndex  implements ITableIndex {
 			}
 			
 			//Runtime rt = Runtime.getRuntime();
-			int baseCount = 100000;//ÿȡ
-			boolean flag = false;//ǷʱļС
+			int baseCount = 100000;//每次取出来的条数
+			boolean flag = false;//是否调整过临时文件大小
 			
 			ArrayList <ICursor>cursorList = new ArrayList<ICursor>();
 			Table table;
@@ -1566,7 +1570,7 @@ public class TableHashIndex  implements ITableIndex {
 				ifields[i] = fields[i];
 			}
 			
-			//ǷǶ
+			//检查是否是对主键建立索引
 			keyNames = srcTable.getSortedColNames();
 			if (srcTable.isSorted && keyNames != null && keyNames.length >= fields.length) {
 				boolean isKeyField = true;
@@ -1588,8 +1592,8 @@ public class TableHashIndex  implements ITableIndex {
 			}
 			
 			//Runtime rt = Runtime.getRuntime();
-			int baseCount = 100000;//ÿȡ
-			boolean flag = false;//ǷʱļС
+			int baseCount = 100000;//每次取出来的条数
+			boolean flag = false;//是否调整过临时文件大小
 			
 			ArrayList <ICursor>cursorList = new ArrayList<ICursor>();
 			Table table;
@@ -1645,21 +1649,21 @@ public class TableHashIndex  implements ITableIndex {
 	}
 	
 	/**
-	 * ֵѯ
-	 * @param vals ѯkeyֵ
+	 * 按多个值查询
+	 * @param vals 查询的key值
 	 * @param opt
 	 * @param ctx
-	 * @return ¼Ż¼ַ
+	 * @return 记录号或记录地址
 	 */
 	public LongArray select(Object []vals, String opt, Context ctx) {
-		if (indexFile == null || vals == null || indexFile.size() == 0) {
+		if (indexFile == null || vals == null || getIndexSize() == 0) {
 			return new LongArray();
 		}
 		
 		Arrays.sort(vals);
 		int len = vals.length;
 		LongArray posArray = new LongArray(len * 2);
-		boolean hasModify = srcTable.getModifyRecords() != null;//Ƿв
+		boolean hasModify = srcTable.getModifyRecords() != null;//是否有补区
 		if (isDirectPos) {
 			if (cache != null) {
 				//index@3
@@ -1695,7 +1699,7 @@ public class TableHashIndex  implements ITableIndex {
 				}
 				return posArray;
 			} else {
-				InputStream is = indexFile.getInputStream();
+				InputStream is = getIndexInputStream();
 				ObjectReader reader = new ObjectReader(is, BUFFER_SIZE);
 				try {
 					long baseOffset = this.baseOffset;
@@ -1730,71 +1734,113 @@ public class TableHashIndex  implements ITableIndex {
 			}
 		}
 		
-		InputStream is = indexFile.getInputStream();
+		InputStream is = getIndexInputStream();
 		ObjectReader reader = new ObjectReader(is, BUFFER_SIZE);
+		ObjectReader bucketReader = null;
 		
 		try {
 			if (hashPos == 0) {
 				readHeader(reader);
 			}
 			int icount = ifields.length;
-			long pos;
 			long hashPos = this.hashPos;
+			int capacity = this.capacity;
 			int posCount = positionCount;
 			
-			for (Object val : vals) {
-				Object[] valArray = null;
+			// 按哈希槽排序后查找，哈希表和按哈希值顺序写的桶都只需往后读，同一个槽的值只读一次桶
+			// 高32位是槽号，低32位是值的序号
+			long []slots = new long[len];
+			Object [][]valArrays = icount == 1 ? null : new Object[len][];
+			for (int i = 0; i < len; ++i) {
+				int slot;
 				if (icount == 1) {
-					pos = hash(val.hashCode(), capacity);
+					slot = hash(vals[i].hashCode(), capacity);
 				} else {
-					valArray = ((Sequence)val).toArray();
-					pos = hashCode(valArray, capacity);
+					valArrays[i] = ((Sequence)vals[i]).toArray();
+					slot = hashCode(valArrays[i], capacity);
 				}
-				pos = hashPos + pos * POSITION_SIZE;
-				reader.seek(pos);
-				pos = reader.readLong40();
-				if (pos == 0) {
-					reader.close();
-					is = indexFile.getInputStream();
-					reader = new ObjectReader(is, BUFFER_SIZE);
-					continue;
+				
+				slots[i] = ((long)slot << 32) | i;
+			}
+			
+			Arrays.sort(slots);
+			LongArray []founds = new LongArray[len]; // 每个值找到的地址
+			Object []objs = new Object[icount];
+			long []positions = new long[posCount + 1];
+			
+			for (int s = 0; s < len;) {
+				int slot = (int)(slots[s] >>> 32);
+				int e = s + 1;
+				while (e < len && (int)(slots[e] >>> 32) == slot) {
+					e++;
 				}
 				
-				reader.seek(pos);
-				int count = reader.readInt();
-				Object []objs = new Object[icount];
-				for (int i = 0; i < count; ++i) {
-					for (int f = 0; f < icount; ++f) {
-						objs[f] = reader.readObject();
-					}
-					int cmp;
-					if (icount == 1) {
-						cmp = Variant.compare(objs[0], val);
-					} else {
-						cmp = Variant.compareArrays(objs, valArray);
+				reader.seek(hashPos + (long)slot * POSITION_SIZE);
+				long pos = reader.readLong40();
+				if (pos != 0) {
+					// 追加的桶可能在后面的槽的桶之后，只能往后读，此时重新打开
+					if (bucketReader == null || pos < bucketReader.position()) {
+						if (bucketReader != null) {
+							bucketReader.close();
+						}
+						
+						bucketReader = new ObjectReader(getIndexInputStream(), BUFFER_SIZE);
 					}
-					if (cmp == 0) {
-						posArray.add(reader.readLong());
-						for (int j = 0; j < posCount; ++j) {
-							posArray.add(reader.readLong());
+					
+					bucketReader.seek(pos);
+					int count = bucketReader.readInt();
+					for (int c = 0; c < count; ++c) {
+						for (int f = 0; f < icount; ++f) {
+							objs[f] = bucketReader.readObject();
 						}
-					} else {
-						reader.readLong();
-						for (int j = 0; j < posCount; ++j) {
-							reader.readLong();
+						
+						for (int j = 0; j <= posCount; ++j) {
+							positions[j] = bucketReader.readLong();
+						}
+						
+						for (int k = s; k < e; ++k) {
+							int i = (int)slots[k];
+							int cmp;
+							if (icount == 1) {
+								cmp = Variant.compare(objs[0], vals[i]);
+							} else {
+								cmp = Variant.compareArrays(objs, valArrays[i]);
+							}
+							
+							if (cmp == 0) {
+								LongArray found = founds[i];
+								if (found == null) {
+									found = new LongArray(posCount + 1);
+									founds[i] = found;
+								}
+								
+								for (int j = 0; j <= posCount; ++j) {
+									found.add(positions[j]);
+								}
+							}
 						}
 					}
 				}
-				reader.close();
-				is = indexFile.getInputStream();
-				reader = new ObjectReader(is, BUFFER_SIZE);
+				
+				s = e;
 			}
 			
+			// 按值的顺序返回
+			for (LongArray found : founds) {
+				if (found != null) {
+					for (int j = 0, size = found.size(); j < size; ++j) {
+						posArray.add(found.get(j));
+					}
+				}
+			}
 		} catch (IOException e) {
 			throw new RQException(e.getMessage(), e);
 		} finally {
 			try {
 				reader.close();
+				if (bucketReader != null) {
+					bucketReader.close();
+				}
 			} catch (IOException ie){};
 		}
 
@@ -1806,15 +1852,15 @@ public class TableHashIndex  implements ITableIndex {
 	}
 
 	/**
-	 * ʽѯ
+	 * 按表达式查询
 	 */
 	public LongArray select(Expression exp, String opt, Context ctx) {
-		if (indexFile == null || indexFile.size() == 0) {
+		if (indexFile == null || getIndexSize() == 0) {
 			return new LongArray();
 		}
 
 		if (hashPos == 0) {
-			InputStream is = indexFile.getInputStream();
+			InputStream is = getIndexInputStream();
 			ObjectReader reader = new ObjectReader(is, BUFFER_SIZE);
 			try {
 				readHeader(reader);
@@ -1946,6 +1992,36 @@ public class TableHashIndex  implements ITableIndex {
 		this.capacity = getNearCapacity(capacity);
 	}
 	
+	// 取索引文件在页缓存中的当前版本，不使用缓存时返回空
+	// checkVersion为true时检查文件的修改时间和大小，文件被其它进程改写后重新打开
+	private IndexPageCache.PageFile getPageFile(boolean checkVersion) {
+		IndexPageCache.PageFile pf = pageFile;
+		if (pf == null || !pf.isValid() || (checkVersion && !pf.isCurrent())) {
+			pf = IndexPageCache.getInstance().open(indexFile);
+			pageFile = pf;
+		}
+		
+		return pf;
+	}
+	
+	// 取读索引文件的输入流，本地文件通过页缓存读
+	private InputStream getIndexInputStream() {
+		IndexPageCache.PageFile pf = getPageFile(false);
+		return pf != null ? pf.getInputStream() : indexFile.getInputStream();
+	}
+	
+	// 每次查询开始时调用，同时检查缓存的文件版本
+	private long getIndexSize() {
+		IndexPageCache.PageFile pf = getPageFile(true);
+		return pf != null ? pf.size() : indexFile.size();
+	}
+	
+	// 索引文件改写后清除缓存的页
+	private void removePages() {
+		IndexPageCache.getInstance().remove(indexFile);
+		pageFile = null;
+	}
+	
 	public void loadAllBlockInfo() {
 		
 	}
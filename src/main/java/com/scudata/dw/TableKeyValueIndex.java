@@ -31,18 +31,18 @@ import com.scudata.util.EnvUtil;
 import com.scudata.util.Variant;
 
 /**
- * KV
- * key-valueֱӴֵֶָԴļļ¼ַ
+ * KV索引
+ * key-value索引，直接存指定的字段值，不存源文件的记录地址
  * @author runqian
  *
  */
 public class TableKeyValueIndex implements ITableIndex {
 	private static final int NULL = -1;
-	private static final int EQ = 0; // 
-	private static final int GE = 1; // ڵ
-	private static final int GT = 2; // 
-	private static final int LE = 3; // Сڵ
-	private static final int LT = 4; // С
+	private static final int EQ = 0; // 等于
+	private static final int GE = 1; // 大于等于
+	private static final int GT = 2; // 大于
+	private static final int LE = 3; // 小于等于
+	private static final int LT = 4; // 小于
 	private static final int LIKE = 5;
 	
 	private static final int BUFFER_SIZE = 1024;
@@ -50,47 +50,47 @@ public class TableKeyValueIndex implements ITableIndex {
 	protected static final int BLOCK_END = -2;
 	private static final int BLOCK_VALUE_START = -3;
 	
-	public static final int MAX_LEAF_BLOCK_COUNT = 1000;//Ҷӽ¼
-	public static final int MAX_INTER_BLOCK_COUNT = 1000;//м¼
+	public static final int MAX_LEAF_BLOCK_COUNT = 1000;//叶子结点的最大记录数
+	public static final int MAX_INTER_BLOCK_COUNT = 1000;//中间结点的最大记录数
 	public static final int MAX_ROOT_BLOCK_COUNT = 1000;//
 	public static final int MAX_SEC_RECORD_COUNT = 100000;//max count of index2
 	
-	public static final int FETCH_SIZE = 20;//һȡ20
+	public static final int FETCH_SIZE = 20;//一次取20块出来
 	
-	private long recordCount = 0; // Դ¼
-	private long index1RecordCount = 0; // 1¼
-	private long index1EndPos = 0; // 1ʱԴļ¼λ
-	protected String []ifields; // ֶ
-	protected String []vfields; // valueֶ
+	private long recordCount = 0; // 源记录数
+	private long index1RecordCount = 0; // 索引1记录数
+	private long index1EndPos = 0; // 索引1建立时源文件记录结束位置
+	protected String []ifields; // 索引字段名字
+	protected String []vfields; // value字段名字
 	
 	private String name;
 	protected PhyTable srcTable;
 	protected FileObject indexFile;
-	// ʱʹ
-	private Object []rootBlockMaxVals; // ÿһֵ
-	private long []rootBlockPos; // ÿһλ	
+	// 查找时使用
+	private Object []rootBlockMaxVals; // 每一块的最大值
+	private long []rootBlockPos; // 每一块的位置	
 	private long internalBlockCount = 0;
-	private Object [][]internalAllBlockMaxVals; // мڵпֵ
-	private long [][]internalAllBlockPos; // мڵпλõĻ
+	private Object [][]internalAllBlockMaxVals; // 中间节点所有块的最大值
+	private long [][]internalAllBlockPos; // 中间节点所有块的位置的缓存
 
-	private Object []rootBlockMaxVals2; // ÿһֵ
-	private long []rootBlockPos2; // ÿһλ
+	private Object []rootBlockMaxVals2; // 每一块的最大值
+	private long []rootBlockPos2; // 每一块的位置
 	private long internalBlockCount2 = 0;
-	private Object [][]internalAllBlockMaxVals2; // мڵпֵ
-	private long [][]internalAllBlockPos2; // мڵпλ
+	private Object [][]internalAllBlockMaxVals2; // 中间节点所有块的最大值
+	private long [][]internalAllBlockPos2; // 中间节点所有块的位置
 	
 	private long rootItPos = 0;//1st root node pos
 	private long rootItPos2 = 0;// sec root node pos
 	private long indexPos = 0;//sec index pos
 	private long indexPos2 = 0;//sec index pos
 	
-	//㻺󣬲internalAllBlockPosҪ
+	//第三层缓存后，不能再用internalAllBlockPos，要用这个
 	private transient byte [][][]cachedBlockReader;
 	private transient byte [][][]cachedBlockReader2;
 	
 	private Expression filter;
 	
-	protected transient int vfieldsCount;//ÿһ¼valueֶθ
+	protected transient int vfieldsCount;//每一条索引记录的value字段个数
 	
 	private class FieldFilter {
 		private Object startVal;
@@ -105,15 +105,15 @@ public class TableKeyValueIndex implements ITableIndex {
 	}
 	
 	/**
-	 * ڽʱȡ
+	 * 用于建立索引时取数，不包含补区
 	 * @author runqian
 	 *
 	 */
 	private class CTableCursor extends ICursor {
 		public static final String POS_FIELDNAME = "rq_file_seq";
 		private ColPhyTable table;
-		private String []fields;//ֶ
-		private String []valueFields;//value ֶ
+		private String []fields;//索引字段
+		private String []valueFields;//value 字段
 		private Expression filter;
 		
 		private DataStruct ds;
@@ -127,7 +127,7 @@ public class TableKeyValueIndex implements ITableIndex {
 		private Sequence cache;
 		private boolean isClosed = false;
 		
-		private long curNum = 0;//ȫּ¼
+		private long curNum = 0;//全局记录号
 		
 		public CTableCursor(PhyTable table, String []fields, String []valueFields, Context ctx, Expression filter) {
 			this.table = (ColPhyTable) table;
@@ -161,14 +161,14 @@ public class TableKeyValueIndex implements ITableIndex {
 			fields = new String[size];
 			list.toArray(fields);
 			
-			//ʽʱҪȡ
+			//有条件表达式时要取出所有
 			if (filter != null) {
 				columns = table.getColumns();
 			} else {
 				columns = table.getColumns(fields);
 			}
 			
-			list.add(POS_FIELDNAME);//һα
+			list.add(POS_FIELDNAME);//加一个伪号
 			size = list.size();
 			fields = new String[size];
 			list.toArray(fields);
@@ -472,9 +472,9 @@ public class TableKeyValueIndex implements ITableIndex {
 		private int curBlock = 0;
 		private Sequence cache;
 		private boolean isClosed = false;
-		private boolean isPrimaryTable; // Ƿ
+		private boolean isPrimaryTable; // 是否主表
 		
-		//private RTableCursor parentCursor;//α
+		//private RTableCursor parentCursor;//主表游标
 		//private Record curPkey;
 		//private long pseq;
 		
@@ -491,7 +491,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			
 			init();
 		}
-		//filterֶҪ
+		//filter里的字段要读出来
 		private void parseFilter(Node node) {
 			if (node == null) return;
 			if (node instanceof UnknownSymbol) {
@@ -516,7 +516,7 @@ public class TableKeyValueIndex implements ITableIndex {
 					list.add(f);
 				}
 			}
-			list.add(POS_FIELDNAME);//һα
+			list.add(POS_FIELDNAME);//加一个伪号
 			
 			int size = list.size();
 			fields = new String[size];
@@ -587,9 +587,9 @@ public class TableKeyValueIndex implements ITableIndex {
 			Object []values = new Object[allCount];
 			
 			ObjectReader rowDataReader = this.rowDataReader;
-			long seq;//α
+			long seq;//伪号
 			@SuppressWarnings("unused")
-			long pseq = 0;//α
+			long pseq = 0;//导列伪号
 			boolean isPrimaryTable = this.isPrimaryTable;
 			int startIndex;
 			if (isPrimaryTable) {
@@ -625,7 +625,7 @@ public class TableKeyValueIndex implements ITableIndex {
 
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f]) 
@@ -658,7 +658,7 @@ public class TableKeyValueIndex implements ITableIndex {
 								
 								seq = rowDataReader.readLong();
 								if (!isPrimaryTable) {
-									pseq = rowDataReader.readLong();//
+									pseq = rowDataReader.readLong();//跳过导列
 								}
 								for (int f = startIndex; f < allCount; ++f) {
 									if (needRead[f]) 
@@ -706,7 +706,7 @@ public class TableKeyValueIndex implements ITableIndex {
 							Record r = new Record(ds);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f]) 
@@ -729,7 +729,7 @@ public class TableKeyValueIndex implements ITableIndex {
 							Record r = new Record(ds);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//跳过导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f]) 
@@ -750,7 +750,7 @@ public class TableKeyValueIndex implements ITableIndex {
 							Record r = new Record(ds);
 							seq = rowDataReader.readLong();
 							if (!isPrimaryTable) {
-								pseq = rowDataReader.readLong();//
+								pseq = rowDataReader.readLong();//导列
 							}
 							for (int f = startIndex; f < allCount; ++f) {
 								if (needRead[f]) 
@@ -813,7 +813,7 @@ public class TableKeyValueIndex implements ITableIndex {
 					for (int i = 0; i < recordCount; ++i) {
 						rowDataReader.readLong();
 						if (!isPrimaryTable) {
-							rowDataReader.readLong();//
+							rowDataReader.readLong();//导列
 						}
 						for (int f = 0; f < allCount; ++f) {
 							rowDataReader.readObject();
@@ -888,10 +888,10 @@ public class TableKeyValueIndex implements ITableIndex {
 		writer.writeLong64(recordCount);
 		writer.writeLong64(index1EndPos);
 		writer.writeLong64(index1RecordCount);
-		writer.writeLong64(rootItPos);// ָroot1 info ʼλ
-		writer.writeLong64(rootItPos2);// ָroot2 info ʼλ
-		writer.writeLong64(indexPos);// 1st index ʼλ
-		writer.writeLong64(indexPos2);// second index ʼλ
+		writer.writeLong64(rootItPos);// 指向root1 info 开始位置
+		writer.writeLong64(rootItPos2);// 指向root2 info 开始位置
+		writer.writeLong64(indexPos);// 1st index 开始位置
+		writer.writeLong64(indexPos2);// second index 开始位置
 		
 		writer.writeStrings(ifields);
 		writer.writeStrings(vfields);
@@ -908,10 +908,10 @@ public class TableKeyValueIndex implements ITableIndex {
 		writer.writeLong64(recordCount);
 		writer.writeLong64(index1EndPos);
 		writer.writeLong64(index1RecordCount);
-		writer.writeLong64(rootItPos);// ָroot1 info ʼλ
-		writer.writeLong64(rootItPos2);// ָroot2 info ʼλ
-		writer.writeLong64(indexPos);// 1st index ʼλ
-		writer.writeLong64(indexPos2);// second index ʼλ
+		writer.writeLong64(rootItPos);// 指向root1 info 开始位置
+		writer.writeLong64(rootItPos2);// 指向root2 info 开始位置
+		writer.writeLong64(indexPos);// 1st index 开始位置
+		writer.writeLong64(indexPos2);// second index 开始位置
 	}
 	
 	private void readHeader(ObjectReader reader) throws IOException {
@@ -944,26 +944,26 @@ public class TableKeyValueIndex implements ITableIndex {
 		this.ifields = ifields;
 		this.vfields = vfields;
 		if (vfields != null) {
-			vfieldsCount = vfields.length + 1;//һα
+			vfieldsCount = vfields.length + 1;//还有一个伪号
 		}
 		
 	}
 	
 	/**
-	 * 
-	 * ļṹrqit + 8byte + Դļ¼ + Դļλ + [ֶ] + Դļ + 
-	 * BLOCK_START +[n + value + pos1,...,posn],... BLOCK_END +  + λ
-	 * @param fields ֶ
-	 * @param valueFields ֵֶ
+	 * 创建索引
+	 * 索引文件结构：‘rqit’ + 8byte + 源文件记录数 + 源文件结束位置 + [索引字段] + 源文件名 + 
+	 * BLOCK_START +[n + value + pos1,...,posn],... BLOCK_END + 索引表 + 索引表位置
+	 * @param fields 索引字段
+	 * @param valueFields 值字段
 	 * @param opt
 	 * @param ctx
 	 * @param filter
 	 */
 	public void create(String []fields, String []valueFields, String opt, Context ctx, Expression filter) {
 		int icount = fields.length;
-		boolean isAppend = false;//׷ӻ½
-		boolean isAdd = true;//ǷҪtable
-		boolean isReset = false;//ؽ
+		boolean isAppend = false;//追加还是新建
+		boolean isAdd = true;//是否需要添加索引到table
+		boolean isReset = false;//重建
 		
 		if (indexFile.size() > 0) {
 			if ((opt == null) ||(opt != null && opt.indexOf('a') == -1)) {
@@ -1019,7 +1019,7 @@ public class TableKeyValueIndex implements ITableIndex {
 					ICursor cursor = new MergesCursor(cursors, exps, ctx);				
 					createIndexTable(cursor, indexFile, true);
 				}
-				srcTable.getTableMetaDataIndex(indexFile, null, false);//׷ӺҪcache
+				srcTable.getTableMetaDataIndex(indexFile, null, false);//追加后要清除cache
 				
 			} catch (IOException e) {
 				throw new RQException(e.getMessage(), e);
@@ -1071,7 +1071,7 @@ public class TableKeyValueIndex implements ITableIndex {
 				createIndexTable(cursor, tmpFile, false);
 			}
 			
-			srcTable.getTableMetaDataIndex(indexFile, null, false);//׷ӺҪcache
+			srcTable.getTableMetaDataIndex(indexFile, null, false);//追加后要清除cache
 			if (needDelete) {
 				indexFile.delete();
 				tmpFile.move(indexFile.getFileName(), null);
@@ -1087,7 +1087,7 @@ public class TableKeyValueIndex implements ITableIndex {
 		}
 	}
 
-	//memsĸ
+	//获得mems里连续的个数
 	private int getGroupNum(IArray mems, int from, int fcount) {
 		int len = mems.size();
 		int count = 1;		
@@ -1116,22 +1116,22 @@ public class TableKeyValueIndex implements ITableIndex {
 		long perCount = MAX_LEAF_BLOCK_COUNT;
 
 		ArrayList<Record> maxValues = new ArrayList<Record>();
-		Record []rootMaxValues;// rootֵ
-		long []positions; // internalļеʼλ
-		long []rootPositions; // rootļеʼλ
-		int blockCount = 0; // 
+		Record []rootMaxValues;// root索引块的最大值
+		long []positions; // internal索引块在文件中的起始位置
+		long []rootPositions; // root索引块在文件中的起始位置
+		int blockCount = 0; // 索引块数
 		long itPos;
 		int recCount = 0;
 		
 		int icount = ifields.length;
-		int vcount = icount + vfields.length + 1;//һα
+		int vcount = icount + vfields.length + 1;//还有一个伪号
 		Context ctx = new Context();
 		Expression []ifs = new Expression[icount];
 		for (int i = 0; i < icount; ++i) {
 			ifs[i] = new Expression("#" + (i + 1));
 		}
 		
-		//ǷǶ
+		//检查是否是对主键建立索引
 		boolean isPrimaryKey = false;
 		String[] keyNames = srcTable.getAllSortedColNames();
 		if (srcTable.hasPrimaryKey && keyNames != null && ifields.length == keyNames.length) {
@@ -1171,7 +1171,7 @@ public class TableKeyValueIndex implements ITableIndex {
 				}
 				
 				while (table != null) {
-					//ÿд20
+					//每次写20块
 					IArray mems = table.getMems();
 					int rest = mems.size();
 					recCount += rest;
@@ -1179,11 +1179,11 @@ public class TableKeyValueIndex implements ITableIndex {
 					int p = 1;
 					for (int c = 0; c < FETCH_SIZE; c++) {
 						writer.writeInt(BLOCK_START);
-						//д0дʵֵ
+						//先写0，后面再写真实值
 						blockValueStartPos = writer.position();
 						posList1.add(blockValueStartPos);
 						writer.writeLong40(0);
-						bufferWriter = new RowBufferWriter(null);//дvaluebuffer
+						bufferWriter = new RowBufferWriter(null);//写value到buffer
 						int count = rest >= MAX_LEAF_BLOCK_COUNT ? MAX_LEAF_BLOCK_COUNT : rest;
 						rest -= count;
 						for (int j = 0; j < count; j++) {
@@ -1196,10 +1196,10 @@ public class TableKeyValueIndex implements ITableIndex {
 							for (int f = icount; f < vcount; ++f) {
 								bufferWriter.writeObject(r.getNormalFieldValue(f));
 							}
-							offset = bufferWriter.getCount() - offset;//õһĳ
+							offset = bufferWriter.getCount() - offset;//得到这一条的长度了
 							writer.writeInt(offset);
 						}
-						//ύһ
+						//提交一块
 						byte []bytes = bufferWriter.finish();
 						writer.writeInt(BLOCK_VALUE_START);
 						writer.writeInt(bytes.length);
@@ -1227,24 +1227,24 @@ public class TableKeyValueIndex implements ITableIndex {
 					if (bufferWriter == null) {
 						writer.writeInt(BLOCK_START);
 					} else {
-						//ύһ
+						//提交一块
 						byte []bytes = bufferWriter.finish();
 						writer.writeInt(BLOCK_VALUE_START);
 						writer.writeInt(bytes.length);
 						long temp = writer.position();
 						posList2.add(temp);
 						writer.write(bytes);
-						//¿
+						//新块
 						writer.writeInt(BLOCK_START);
 					}
 					
 					int count = 0;
-					//д0дʵֵ
+					//先写0，后面再写真实值
 					blockValueStartPos = writer.position();
 					posList1.add(blockValueStartPos);
 					writer.writeLong40(0);
 
-					bufferWriter = new RowBufferWriter(null);//дvaluebuffer
+					bufferWriter = new RowBufferWriter(null);//写value到buffer
 					
 					while (count < perCount) {
 						int len = getGroupNum(mems, p, icount);
@@ -1263,7 +1263,7 @@ public class TableKeyValueIndex implements ITableIndex {
 							for (int f = icount; f < vcount; ++f) {
 								bufferWriter.writeObject(r.getNormalFieldValue(f));
 							}
-							offset = bufferWriter.getCount() - offset;//õһĳ
+							offset = bufferWriter.getCount() - offset;//得到这一条的长度了
 							writer.writeInt(offset);
 						}
 						p += len;
@@ -1279,7 +1279,7 @@ public class TableKeyValueIndex implements ITableIndex {
 					blockCount++;
 					maxValues.add(r);
 				}
-				//ύһ
+				//提交最后一块
 				byte []bytes = bufferWriter.finish();
 				writer.writeInt(BLOCK_VALUE_START);
 				writer.writeInt(bytes.length);
@@ -1297,7 +1297,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			} catch (IOException ie){};
 		}
 
-		//ȥдValuePos
+		//回去写ValuePos
 		os = indexFile.getRandomOutputStream(true);
 		writer = new RandomObjectWriter(os);
 		try {
@@ -1314,9 +1314,9 @@ public class TableKeyValueIndex implements ITableIndex {
 			} catch (IOException ie){};
 		}
 		
-		//recCount
+		//根据recCount处理条数
 		this.recordCount = recCount + index1RecordCount;
-		long srcRecordCount = recordCount;//ݴһ£Ϊļͷʱᱻ¸ֵ
+		long srcRecordCount = recordCount;//暂存一下，因为读文件头时会被重新赋值
 		
 		positions = new long[blockCount];
 		InputStream is = indexFile.getInputStream();
@@ -1353,7 +1353,7 @@ public class TableKeyValueIndex implements ITableIndex {
 				}
 			}
 			
-			itPos = reader.position();//interBlockʼλ
+			itPos = reader.position();//interBlock开始位置
 		} catch (IOException e) {
 			throw new RQException(e.getMessage(), e);
 		} finally {
@@ -1391,7 +1391,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			} catch (IOException ie){};
 		}
 		
-		//rootMaxValues 
+		//获得rootMaxValues 
 		int rootBlockCount = (blockCount/MAX_INTER_BLOCK_COUNT);
 		rootBlockCount += (blockCount % MAX_INTER_BLOCK_COUNT==0) ? 0 : 1;
 		rootMaxValues = new Record[rootBlockCount];
@@ -1400,12 +1400,12 @@ public class TableKeyValueIndex implements ITableIndex {
 		}
 		rootMaxValues[rootBlockCount - 1] = maxValues.get(blockCount - 1);
 		
-		// rootPositions
+		//获得 rootPositions
 		rootPositions = new long[rootBlockCount];
 		is = indexFile.getInputStream();
 		reader = new ObjectReader(is, BUFFER_SIZE);
 		try {
-			reader.seek(itPos);//λinternalBlock start
+			reader.seek(itPos);//定位到internalBlock start
 			//reader.readInt();
 			for (int i = 0; i < blockCount; ++i) {
 				if (i % MAX_INTER_BLOCK_COUNT == 0){
@@ -1436,11 +1436,11 @@ public class TableKeyValueIndex implements ITableIndex {
 			rootItPos = itPos;
 			rootItPos2 = 0;
 			recordCount = srcRecordCount;
-			index1RecordCount = srcRecordCount;//1ļ¼˺
-			index1EndPos = srcTable.getTotalRecordCount();//1ʱԴǱ˺ģҲ
+			index1RecordCount = srcRecordCount;//1区里的记录条数，过滤后的
+			index1EndPos = srcTable.getTotalRecordCount();//建立1区时源表里的条数，不是被条件过滤后的，也不包含补区
 		}
 
-		//дrootMaxValues rootPositions
+		//写rootMaxValues rootPositions
 		os = indexFile.getRandomOutputStream(true);
 		writer = new RandomObjectWriter(os);
 		try {
@@ -1454,7 +1454,7 @@ public class TableKeyValueIndex implements ITableIndex {
 				writer.writeLong(rootPositions[i]);
 			}
 			
-			writer.writeLong64(blockCount);//internalܸ
+			writer.writeLong64(blockCount);//internal块的总个数
 		} catch (IOException e) {
 			throw new RQException(e.getMessage(), e);
 		} finally {
@@ -1523,11 +1523,11 @@ public class TableKeyValueIndex implements ITableIndex {
 				vfields = valueFields;
 			}
 			
-			//½ı
+			//如果是新建立的表
 			if (srcTable.getActualRecordCount() == 0) {
 				return null;
 			}
-			//ǷǶ
+			//检查是否是对主键建立索引
 			keyNames = srcTable.getAllSortedColNames();
 			if (srcTable.isSorted && keyNames != null && keyNames.length >= fields.length) {
 				boolean isKeyField = true;
@@ -1549,8 +1549,8 @@ public class TableKeyValueIndex implements ITableIndex {
 			}
 			
 			Runtime rt = Runtime.getRuntime();
-			int baseCount = 100000;//ÿȡ
-			boolean flag = false;//ǷʱļС
+			int baseCount = 100000;//每次取出来的条数
+			boolean flag = false;//是否调整过临时文件大小
 			
 			ArrayList <ICursor>cursorList = new ArrayList<ICursor>();
 			Table table;
@@ -1647,12 +1647,12 @@ public class TableKeyValueIndex implements ITableIndex {
 				vfields = valueFields;
 			}
 			
-			//½ı
+			//如果是新建立的表
 			if (srcTable.getActualRecordCount() == 0) {
 				return null;
 			}
 			
-			//ǷǶ
+			//检查是否是对主键建立索引
 			keyNames = srcTable.getSortedColNames();
 			if (srcTable.isSorted && keyNames != null && keyNames.length >= fields.length) {
 				boolean isKeyField = true;
@@ -1674,8 +1674,8 @@ public class TableKeyValueIndex implements ITableIndex {
 			}
 
 			Runtime rt = Runtime.getRuntime();
-			int baseCount = 100000;//ÿȡ
-			boolean flag = false;//ǷʱļС
+			int baseCount = 100000;//每次取出来的条数
+			boolean flag = false;//是否调整过临时文件大小
 			
 			ArrayList <ICursor>cursorList = new ArrayList<ICursor>();
 			Table table;
@@ -1765,8 +1765,8 @@ public class TableKeyValueIndex implements ITableIndex {
 			} else if (cmp > 0) {
 				high = mid - 1;
 			} else {
-				// ֻԲֶʱظ
-				if (isStart) { // ʼλ
+				// 只对部分索引字段提条件时可能有重复的
+				if (isStart) { // 找起始位置
 					for (int i = mid - 1; i >= 0; --i) {
 						if (Variant.compareArrays(objs[i], keys, keyCount) == 0) {
 							mid = i;
@@ -1774,7 +1774,7 @@ public class TableKeyValueIndex implements ITableIndex {
 							break;
 						}
 					}
-				} else { // ҽλ
+				} else { // 找结束位置
 					for (int i = mid + 1; i <= high; ++i) {
 						if (Variant.compareArrays(objs[i], keys, keyCount) == 0) {
 							mid = i;
@@ -1797,12 +1797,12 @@ public class TableKeyValueIndex implements ITableIndex {
 		}
 	}
 
-	//ֵҿźλã
-	//key[] Ҫҵֵ
-	//icount ֶθ
-	//isStart Ƿҿʼ
-	//pos[] ҵλ
-	//index[] ҵĿ
+	//根据值查找块号和位置，两个索引区都查找
+	//key[] 要查找的值
+	//icount 字段个数
+	//isStart 是否是找开始
+	//pos[] 输出找到的位置
+	//index[] 输出找到的块号
 	private void searchValue(Object[] key, int icount, boolean isStart, long[] pos, int[] index) {
 		//int rootBlockCount = rootBlockMaxVals.length;
 		int i = 0;
@@ -1904,7 +1904,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			int icount = ifields.length;
 			if (rootBlockMaxVals == null) {
 				reader.seek(rootItPos);
-				rootBlockCount1 = reader.readInt(); // 
+				rootBlockCount1 = reader.readInt(); // 索引块数
 				Object []maxValues;
 				long []positions = new long[rootBlockCount1];
 				
@@ -1933,7 +1933,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			
 			if (rootItPos2 != 0 && rootBlockMaxVals2 == null) {
 				reader.seek(rootItPos2);
-				rootBlockCount2 = reader.readInt(); // 
+				rootBlockCount2 = reader.readInt(); // 索引块数
 				Object []maxValues;
 				long []positions = new long[rootBlockCount2];
 				
@@ -1970,10 +1970,10 @@ public class TableKeyValueIndex implements ITableIndex {
 	}
 
 	/**
-	 * ȡһмϢ
+	 * 读取一个中间块信息
 	 * @param fo
 	 * @param pos
-	 * @param blockInfo	
+	 * @param blockInfo	输出
 	 */
 	private void readInternalBlockInfo(FileObject fo, long pos, BlockInfo blockInfo) {
 		int interBlockCount;
@@ -1983,7 +1983,7 @@ public class TableKeyValueIndex implements ITableIndex {
 		try {
 			int icount = ifields.length;
 			reader.seek(pos);
-			interBlockCount = reader.readInt(); // 
+			interBlockCount = reader.readInt(); // 索引块数
 			Object []maxValues;
 			long []positions = new long[interBlockCount];
 			
@@ -2017,7 +2017,7 @@ public class TableKeyValueIndex implements ITableIndex {
 		}
 	}
 	
-	// ؼ¼
+	// 返回记录数
 	public long count() {
 		InputStream is = indexFile.getInputStream();
 		ObjectReader reader = new ObjectReader(is, BUFFER_SIZE);
@@ -2298,7 +2298,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			throw new RQException(mm.getMessage("Expression.unknownExpression") + exp.toString());
 		}
 		
-		//containʽ
+		//处理contain表达式
 		Node home = exp.getHome();
 		if (home instanceof DotOperator) {
 			Node left = home.getLeft();
@@ -2329,7 +2329,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			return select(series, fields, opt, ctx);
 		}
 		
-		//like(F,"xxx*")ʽ
+		//处理like(F,"xxx*")表达式
 		if (home instanceof Like) {
 			if (((Like) home).getParam().getSubSize() != 2) {
 				MessageManager mm = EngineMessage.get();
@@ -2357,7 +2357,7 @@ public class TableKeyValueIndex implements ITableIndex {
 				if (filters[last] != null) break;
 			}
 			
-			// ĶȱȽŻ[a,b...v1]:[a,b...v2]
+			// 如果左面的都是相等比较则可以优化成[a,b...v1]:[a,b...v2]
 			boolean canOpt = true;
 			for (int i = 0; i < last; ++i) {
 				if (filters[i] == null || filters[i].startSign != EQ) {
@@ -2374,7 +2374,7 @@ public class TableKeyValueIndex implements ITableIndex {
 					}
 					
 					if (icount == last + 1) {
-						//ֶεĵ
+						//如果是所有字段的等于
 						Sequence seq = new Sequence();
 						seq.addAll(vals);
 						if (icount == 1) {
@@ -2403,7 +2403,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			}
 		}
 
-		//trueȡȫ
+		//如果条件是true，就是取全部
 		if (exp.getHome() instanceof Constant 
 				&& Variant.isTrue(exp.calculate(ctx))
 				&& srcTable.getModifyRecords() == null) {
@@ -2429,8 +2429,8 @@ public class TableKeyValueIndex implements ITableIndex {
 			return cs;
 		}
 		
-		Sequence vals = new Sequence(icount); // ǰжϵֶεֵ
-		FieldFilter ff = null; // һжϵֶεϢ
+		Sequence vals = new Sequence(icount); // 前面做相等判断的字段的值
+		FieldFilter ff = null; // 第一个做非相等判断的字段的信息
 		
 		for (int i = 0; i < icount; ++i) {
 			FieldFilter filter = new FieldFilter();
@@ -2701,7 +2701,7 @@ public class TableKeyValueIndex implements ITableIndex {
 		return false;
 	}
 	
-	// ҳֶε
+	// 找出索引字段的区间
 	private void getFieldFilter(int fieldIndex, Node home, FieldFilter filter, Context ctx) {
 		if (!(home instanceof Operator)) return;
 		
@@ -2750,7 +2750,7 @@ public class TableKeyValueIndex implements ITableIndex {
 				filter.startSign = GT;
 				filter.startVal = left.calculate(ctx);
 			}
-		} // or
+		} // 忽略or和其它运算符
 	}
 
 	private Object [] readPos(ObjectReader reader, Expression exp, Context ctx, 
@@ -2771,7 +2771,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			int count;
 			for (; start <= end; ++start) {
 				long valuesPos = reader.readLong40();
-				int len = 0;//ۼӳ
+				int len = 0;//计算累加长度
 				
 				while ((count = reader.readInt()) > 0) {
 					for (int i = 0; i < icount; ++i) {
@@ -2794,7 +2794,7 @@ public class TableKeyValueIndex implements ITableIndex {
 					}
 				}
 				
-				//value,е,ȡvalueֵ
+				//到了value块了,如果有命中的,取value值
 				long nextBlockPos = reader.readInt() + valuesPos;
 				int size = posList.size();
 				int c = 0;
@@ -2824,7 +2824,7 @@ public class TableKeyValueIndex implements ITableIndex {
 	}
 	
 	/**
-	 * ȡֱӷļα
+	 * 读取结果，直接返回外存文件游标
 	 * @param fields
 	 * @param reader
 	 * @param exp
@@ -2854,7 +2854,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			int count;
 			for (; start <= end; ++start) {
 				long valuesPos = reader.readLong40();
-				int len = 0;//ۼӳ
+				int len = 0;//计算累加长度
 				
 				while ((count = reader.readInt()) > 0) {
 					for (int i = 0; i < icount; ++i) {
@@ -2877,7 +2877,7 @@ public class TableKeyValueIndex implements ITableIndex {
 					}
 				}
 				
-				//value,е,ȡvalueֵ
+				//到了value块了,如果有命中的,取value值
 				long nextBlockPos = reader.readInt() + valuesPos;
 				int size = posList.size();
 				int c = 0;
@@ -3060,7 +3060,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			break;
 		}
 		
-		//value,е,ȡvalueֵ
+		//到了value块了,如果有命中的,取value值
 		int size = posList.size();
 		for (int i = 0; i < size; ++i) {
 			objList.add(keyList.get(i));//key
@@ -3087,14 +3087,14 @@ public class TableKeyValueIndex implements ITableIndex {
 		for (int i = 0; i < rootCount; ++i) {
 			if (cachedBlockReader == null) {
 				if (internalAllBlockPos == null) {
-					readInternalBlockInfo(indexFile, rootBlockPos[i], blockInfo);//ûԤ
+					readInternalBlockInfo(indexFile, rootBlockPos[i], blockInfo);//没预加载
 				} else {
-					readInternalBlockInfo(false, i, blockInfo);//ڶ
+					readInternalBlockInfo(false, i, blockInfo);//第二层加载
 				}
 				
 				index = readPos_s(reader, vals, index, blockInfo.internalBlockMaxVals, blockInfo.internalBlockPos, tempPos);
 			} else {
-				//
+				//三层加载
 				index = readPos_s_cache(reader, vals, index, internalAllBlockMaxVals[i], cachedBlockReader[i], tempPos);
 			}
 			
@@ -3161,7 +3161,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			if (count == BLOCK_START) {
 				valuesPos = reader.readLong40();
 				offset = 0;
-				// ʱȽһǷ鶼ȵǰҪȡֵС
+				// 换块时比较一下是否整个块都比当前要取的值小，如果是则跳过块
 				while (true) {
 					block++;
 					if (block >= blockCount) break Next;
@@ -3356,13 +3356,13 @@ public class TableKeyValueIndex implements ITableIndex {
 				valuesPos = reader.readLong40();
 				offset = 0;
 				
-				// ʱȽһǷ鶼ȵǰҪȡֵС
+				// 换块时比较一下是否整个块都比当前要取的值小，如果是则跳过块
 				while (true) {
 					block++;
 					if (block >= blockCount) break Next;
 					
 					if (Variant.compareArrays(blockMaxVals[block], srcKeys, srcKeyCount) >= 0) {
-						if (blockPos[block] < reader.position()) break;//Ѿһ飬seek
+						if (blockPos[block] < reader.position()) break;//已经读到了这一块，则不用seek
 						reader.seek(blockPos[block]);
 						valuesPos = reader.readLong40();
 						offset = 0;
@@ -3544,7 +3544,7 @@ public class TableKeyValueIndex implements ITableIndex {
 					r.setNormalFieldValue(0, cur);
 					Object b = exp.calculate(ctx);
 					if (Variant.isTrue(b)) {
-						findFirst = true;//ҵ
+						findFirst = true;//找到了
 						for (int i = 0; i < count; ++i) {
 							keyList.add(cur);
 							posList.add(valuesPos + offset);
@@ -3555,14 +3555,14 @@ public class TableKeyValueIndex implements ITableIndex {
 							offset += reader.readInt();
 						}
 						if (findFirst) {
-							//һ
+							//都在这一块里
 							findFirst = false;
 							break;
 						}
 					}
 				}
 				if (!findFirst) {
-					//ûҵ߶ڵһҺ
+					//没找到，或者都在第一块里，则不再找后续块
 					break;
 				}
 				
@@ -3821,7 +3821,7 @@ public class TableKeyValueIndex implements ITableIndex {
 			valuesPos = reader.readLong40();
 			offset = 0;
 			while (true) {
-				// ֶʱֻѡֶοظ
+				// 多字段索引时，只选部分字段可能有重复的
 				int count = reader.readInt();
 				if (count == BLOCK_START) {
 					valuesPos = reader.readLong40();
@@ -4475,8 +4475,8 @@ public class TableKeyValueIndex implements ITableIndex {
 	}
 	
 	/**
-	 * ȡõֵڴα
-	 * @param fields ȡֶ
+	 * 把取得的值组成内存游标
+	 * @param fields 取出字段
 	 * @param values 
 	 * @return
 	 */
@@ -4492,8 +4492,8 @@ public class TableKeyValueIndex implements ITableIndex {
 		}
 		int count = fields.length;
 		
-		boolean hasModify = srcTable.getModifyRecords() != null;//Ƿв
-		boolean needNew = false;//ǷҪnew(ȡֶβifields+vfields)
+		boolean hasModify = srcTable.getModifyRecords() != null;//是否需有补区
+		boolean needNew = false;//是否需要new(取出字段不等于ifields+vfields)
 		if (count == icount) {
 			for (int i = 0; i < count; i++) {
 				if (!fields[i].equals(fieldNames[i])) {
@@ -4524,7 +4524,7 @@ public class TableKeyValueIndex implements ITableIndex {
 					for (int j = 0; j < icount; j++) {
 						objs[j] = values[c++];
 					}
-					c++;//α
+					c++;//跳过伪号
 					for (int j = 0; j < count; j++) {
 						r.setNormalFieldValue(j, objs[findex[j]]);
 					}
@@ -4536,13 +4536,13 @@ public class TableKeyValueIndex implements ITableIndex {
 					for (int j = 0; j < icount; j++) {
 						r.setNormalFieldValue(j, values[c++]);
 					}
-					c++;//α
+					c++;//跳过伪号
 					table.add(r);
 				}
 			}
 			return new MemoryCursor(table);
 		} else {
-			//в
+			//有补区
 			int p = 0;
 			if (needNew) {
 				DataStruct tempDs = new DataStruct(fieldNames);
@@ -4561,7 +4561,7 @@ public class TableKeyValueIndex implements ITableIndex {
 					for (int j = 0; j < count; j++) {
 						result[p++] = objs[findex[j]];
 					}
-					result[p++] = values[c++];//α
+					result[p++] = values[c++];//伪号
 				}
 				return new IndexCursor(srcTable, fields, ifields, result);
 			} else {
@@ -4570,7 +4570,7 @@ public class TableKeyValueIndex implements ITableIndex {
 		}
 	}
 	
-	//װм
+	//装载所有中间块
 	public synchronized void loadAllBlockInfo() {
 		if (internalAllBlockPos!= null) return;
 		readBlockInfo(indexFile);//load root info
@@ -4604,7 +4604,7 @@ public class TableKeyValueIndex implements ITableIndex {
 		int icount = ifields.length;
 		
 		try {
-			//ѵһ
+			//把第三层过一遍
 			for (int c = 0; c < rootCount; ++c) {
 				readInternalBlockInfo(false, c, blockInfo);
 				for (long pos : blockInfo.internalBlockPos) {
@@ -4641,7 +4641,7 @@ public class TableKeyValueIndex implements ITableIndex {
 		}
 	}
 	
-	//װkeys
+	//装载所有keys
 	public synchronized void loadAllKeys() {
 		if (internalAllBlockPos!= null) return;
 		readBlockInfo(indexFile);//load root info
@@ -4687,9 +4687,9 @@ public class TableKeyValueIndex implements ITableIndex {
 				threads[i] = newLoadDataThread(rootBlockMaxVals, cachedBlockReader, internalAllBlockPos, reader, icount,
 						i * avg, (i + 1) * avg);
 			}
-			threads[i].start(); // ߳
+			threads[i].start(); // 启动线程
 		}
-		// ȴ߳̽
+		// 等待所有子线程结束
 		for (int i = 0; i < parallelNum; ++i) {
 			try {
 				threads[i].join();
@@ -4716,9 +4716,9 @@ public class TableKeyValueIndex implements ITableIndex {
 				threads[i] = newLoadDataThread(rootBlockMaxVals2, cachedBlockReader2, internalAllBlockPos2, reader, icount,
 						i * avg, (i + 1) * avg);
 			}
-			threads[i].start(); // ߳
+			threads[i].start(); // 启动线程
 		}
-		// ȴ߳̽
+		// 等待所有子线程结束
 		for (int i = 0; i < parallelNum; ++i) {
 			try {
 				threads[i].join();
@@ -4734,7 +4734,7 @@ public class TableKeyValueIndex implements ITableIndex {
 		return new Thread() {
 			public void run() {
 				try {
-					//ѵkey浽bufferͬʱַҲָڴ
+					//把第三层的key保存到buffer，同时地址也都指向内存
 					for (int c = start; c < end; ++c) {
 						int len = internalAllBlockPos[c].length;
 						cachedBlockReader[c] = new byte[len][];
@@ -4786,9 +4786,9 @@ public class TableKeyValueIndex implements ITableIndex {
 	}
 	
 	/**
-	 * װм
-	 * @param isSec Ƿǵڶ
-	 * @param i		װصڼ
+	 * 装载中间块
+	 * @param isSec 是否是第二索引
+	 * @param i		装载第几块
 	 */
 	private void readInternalBlockInfo(boolean isSec, int i, BlockInfo blockInfo) {
 		if (!isSec) {
@@ -4827,7 +4827,7 @@ public class TableKeyValueIndex implements ITableIndex {
 				offset = 0;
 				count = bufferReader.readInt();
 			} else if (count == BLOCK_VALUE_START) {
-				// ʱȽһǷ鶼ȵǰҪȡֵС
+				// 换块时比较一下是否整个块都比当前要取的值小，如果是则跳过块
 				while (true) {
 					block++;
 					if (block >= blockCount) break Next;
@@ -4952,7 +4952,7 @@ public class TableKeyValueIndex implements ITableIndex {
 				count = bufferReader.readInt();
 			} else if (count == BLOCK_VALUE_START) {
 				
-				// ʱȽһǷ鶼ȵǰҪȡֵС
+				// 换块时比较一下是否整个块都比当前要取的值小，如果是则跳过块
 				while (true) {
 					block++;
 					if (block >= blockCount) break Next;
@@ -5045,9 +5045,9 @@ public class TableKeyValueIndex implements ITableIndex {
 	}
 
 	/**
-	 * key[0]ͷ
-	 * @param key	key[0]String
-	 * @param exp	likeʽ
+	 * 查找以key[0]开头的
+	 * @param key	key[0]是String
+	 * @param exp	like表达式
 	 * @param ctx
 	 * @return
 	 */
@@ -1,7 +1,7 @@
 package com.scudata.dw;
 
 
-//ֻǷͽļ¼
+//只是返回送进来的记录号
 public class TableSeqGather extends TableGather {
 	public TableSeqGather() {}
 	
@@ -8,7 +8,7 @@ import com.scudata.expression.fn.gather.Top;
 import com.scudata.util.MinHeap;
 
 /**
- * TopʽĹ
+ * Top表达式的过滤器
  * @author runqian
  *
  */
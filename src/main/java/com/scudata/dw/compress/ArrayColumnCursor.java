@@ -0,0 +1,105 @@
+package com.scudata.dw.compress;
+
+import com.scudata.array.IArray;
+import com.scudata.dm.DataStruct;
+import com.scudata.dm.Record;
+import com.scudata.dm.Sequence;
+import com.scudata.dm.Table;
+import com.scudata.dm.cursor.ICursor;
+
+/**
+ * 列存内表的游标，取数时按列填充记录，只为取出的数据产生记录
+ * @author RunQian
+ *
+ */
+public class ArrayColumnCursor extends ICursor {
+	private ArrayColumnList data; // 列存数据
+	private int startSeq; // 起始位置，包含
+	private int endSeq; // 结束位置，包含
+	private int next; // 下一条记录的位置
+
+	/**
+	 * 创建游标
+	 * @param data 列存数据
+	 * @param start 起始位置，包含
+	 * @param end 结束位置，不包含
+	 */
+	public ArrayColumnCursor(ArrayColumnList data, int start, int end) {
+		this.data = data;
+		this.startSeq = start;
+		this.endSeq = end - 1;
+		if (endSeq > data.size()) {
+			endSeq = data.size();
+		}
+
+		this.next = start;
+		setDataStruct(data.dataStruct());
+	}
+
+	/**
+	 * 读取指定条数的数据返回
+	 * @param n 数量
+	 * @return Sequence
+	 */
+	protected Sequence get(int n) {
+		int rest = endSeq - next + 1;
+		if (rest < 1 || n < 1) {
+			return null;
+		}
+
+		if (n > rest) {
+			n = rest;
+		}
+
+		DataStruct ds = data.dataStruct();
+		IArray []columns = data.getArrays();
+		int fcount = columns.length;
+		Table table = new Table(ds, n);
+		IArray mems = table.getMems();
+		Record []records = new Record[n];
+		for (int i = 0; i < n; ++i) {
+			records[i] = new Record(ds);
+			mems.add(records[i]);
+		}
+
+		// 按列取值，每次只访问一个数组
+		int start = next;
+		for (int f = 0; f < fcount; ++f) {
+			IArray column = columns[f];
+			for (int i = 0; i < n; ++i) {
+				records[i].setNormalFieldValue(f, column.get(start + i));
+			}
+		}
+
+		next = start + n;
+		return table;
+	}
+
+	/**
+	 * 跳过指定条数的数据
+	 * @param n 数量
+	 * @return long 实际跳过的条数
+	 */
+	protected long skipOver(long n) {
+		int rest = endSeq - next + 1;
+		if (rest < 1 || n < 1) {
+			return 0;
+		} else if (rest > n) {
+			next += n;
+			return n;
+		} else {
+			next = endSeq + 1;
+			return rest;
+		}
+	}
+
+	/**
+	 * 重置游标
+	 * @return 返回是否成功，true：游标可以从头重新取数，false：不可以从头重新取数
+	 */
+	public boolean reset() {
+		close();
+		next = startSeq;
+		return true;
+	}
+}
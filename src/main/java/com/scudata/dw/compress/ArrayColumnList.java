@@ -0,0 +1,1250 @@
+package com.scudata.dw.compress;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Comparator;
+import java.util.HashMap;
+
+import com.scudata.array.BoolArray;
+import com.scudata.array.DateArray;
+import com.scudata.array.DoubleArray;
+import com.scudata.array.IArray;
+import com.scudata.array.IntArray;
+import com.scudata.array.LongArray;
+import com.scudata.array.NumberArray;
+import com.scudata.array.ObjectArray;
+import com.scudata.array.StringArray;
+import com.scudata.common.MessageManager;
+import com.scudata.common.RQException;
+import com.scudata.dm.BaseRecord;
+import com.scudata.dm.Context;
+import com.scudata.dm.DataStruct;
+import com.scudata.dm.IndexTable;
+import com.scudata.dm.Record;
+import com.scudata.dm.Sequence;
+import com.scudata.dm.cursor.BFileCursor;
+import com.scudata.dm.cursor.ICursor;
+import com.scudata.expression.CurrentSeq;
+import com.scudata.expression.Expression;
+import com.scudata.expression.Relation;
+import com.scudata.resources.EngineMessage;
+import com.scudata.util.Variant;
+
+/**
+ * 按列存储的内表数据，每个字段用一个基本类型数组存储
+ * 整数、长整数、浮点数、日期用对应的基本类型数组，串用StringArray并且相同的串只保留一份
+ * 记录只有在被访问时才产生，被索引找到的记录会被保留，再次访问时返回同一条记录
+ * @author RunQian
+ *
+ */
+public class ArrayColumnList extends ColumnList {
+	private static final long serialVersionUID = 1L;
+	private static final int MAX_DICT_SIZE = 65536; // 串字典的最大长度，不同的串超过此数时不再去重
+
+	private DataStruct ds; // 数据结构
+	private IArray []columns; // 各字段的值
+	private int size; // 记录数
+
+	private Record []records; // 被索引找到的记录，没有找过时为空
+
+	// 每个线程最后一次产生的记录，逐行计算时同一行的多次访问不再重复产生记录，多个线程同时计算时互不影响
+	private ThreadLocal<LastRecord> lastRecord = new ThreadLocal<LastRecord>();
+	private int version; // 列被改变时加1，使各线程记下的记录失效
+
+	private static class LastRecord {
+		private Record record;
+		private int index;
+		private int version;
+	}
+
+	// 序列化时使用
+	public ArrayColumnList() {
+	}
+
+	/**
+	 * 用列数据创建
+	 * @param ds 数据结构
+	 * @param columns 各字段的值
+	 * @param size 记录数
+	 */
+	public ArrayColumnList(DataStruct ds, IArray []columns, int size) {
+		this.ds = ds;
+		this.columns = columns;
+		this.size = size;
+	}
+
+	/**
+	 * 把游标的数据读成列存储
+	 * @param cs 游标
+	 */
+	public ArrayColumnList(ICursor cs) {
+		this(cs, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 从游标读取n条数据存成列存储
+	 * @param cs 游标
+	 * @param n 数量
+	 */
+	public ArrayColumnList(ICursor cs, int n) {
+		if (cs instanceof BFileCursor && ((BFileCursor)cs).canFetchArrays()) {
+			// 集文件按列读取，不产生记录
+			readArrays((BFileCursor)cs, n);
+			return;
+		}
+
+		Sequence data = cs.fetch(n >= ICursor.FETCHCOUNT ? ICursor.FETCHCOUNT : n);
+		if (data == null || data.length() == 0) {
+			ds = cs.getDataStruct();
+			if (ds != null) {
+				createColumns(ds.getFieldCount(), 0);
+			}
+
+			return;
+		}
+
+		ds = data.dataStruct();
+		if (ds == null) {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException(mm.getMessage("engine.needPurePmt"));
+		}
+
+		int fcount = ds.getFieldCount();
+		IArray []columns = null;
+		HashMap<String, String> []dicts = null;
+		int rest = n;
+
+		while (data != null && data.length() > 0) {
+			IArray mems = data.getMems();
+			int len = mems.size();
+			if (columns == null) {
+				columns = createColumns(data, len);
+				dicts = createDicts(columns);
+			}
+
+			for (int f = 0; f < fcount; ++f) {
+				IArray column = columns[f];
+				column.ensureCapacity(size + len);
+				HashMap<String, String> dict = dicts[f];
+				for (int i = 1; i <= len; ++i) {
+					Object value = ((BaseRecord)mems.get(i)).getNormalFieldValue(f);
+					column = addValue(column, value, dict);
+				}
+
+				columns[f] = column;
+			}
+
+			size += len;
+			rest -= len;
+			if (rest <= 0) {
+				break;
+			}
+
+			data = cs.fetch(rest >= ICursor.FETCHCOUNT ? ICursor.FETCHCOUNT : rest);
+		}
+
+		for (int f = 0; f < fcount; ++f) {
+			columns[f].trimToSize();
+		}
+
+		this.columns = columns;
+	}
+
+	// 从集文件游标按列读取n条数据
+	private void readArrays(BFileCursor cs, int n) {
+		IArray []arrays = cs.fetchArrays(n >= ICursor.FETCHCOUNT ? ICursor.FETCHCOUNT : n);
+		ds = cs.getDataStruct();
+		if (arrays == null) {
+			createColumns(ds.getFieldCount(), 0);
+			return;
+		}
+
+		int fcount = arrays.length;
+		IArray []columns = new IArray[fcount];
+		HashMap<String, String> []dicts = null;
+		int rest = n;
+
+		while (arrays != null) {
+			int len = arrays[0].size();
+			if (dicts == null) {
+				for (int f = 0; f < fcount; ++f) {
+					columns[f] = newColumn(arrays[f], len);
+				}
+
+				dicts = createDicts(columns);
+			}
+
+			for (int f = 0; f < fcount; ++f) {
+				IArray column = columns[f];
+				IArray array = arrays[f];
+				column.ensureCapacity(size + len);
+				HashMap<String, String> dict = dicts[f];
+				if (dict == null && column.getClass() == array.getClass()) {
+					column.addAll(array);
+				} else {
+					for (int i = 1; i <= len; ++i) {
+						column = addValue(column, array.get(i), dict);
+					}
+
+					columns[f] = column;
+				}
+			}
+
+			size += len;
+			rest -= len;
+			if (rest <= 0) {
+				break;
+			}
+
+			arrays = cs.fetchArrays(rest >= ICursor.FETCHCOUNT ? ICursor.FETCHCOUNT : rest);
+		}
+
+		for (int f = 0; f < fcount; ++f) {
+			columns[f].trimToSize();
+		}
+
+		this.columns = columns;
+	}
+
+	// 把值加到列中，类型不一致时改用对象数组，返回加入后的列
+	private IArray addValue(IArray column, Object value, HashMap<String, String> dict) {
+		if (value == null) {
+			column.pushNull();
+		} else if (!isTypeMatch(column, value)) {
+			// 类型不一致，改用对象数组
+			column = column.toObjectArray();
+			column.ensureCapacity(size + ICursor.FETCHCOUNT);
+			column.push(value);
+		} else if (dict != null && value instanceof String) {
+			// 相同的串只保留一份
+			String str = (String)value;
+			String prev = dict.get(str);
+			if (prev != null) {
+				column.push(prev);
+			} else {
+				if (dict.size() < MAX_DICT_SIZE) {
+					dict.put(str, str);
+				}
+
+				column.push(str);
+			}
+		} else {
+			column.push(value);
+		}
+
+		return column;
+	}
+
+	private IArray[] createColumns(int fcount, int capacity) {
+		IArray []columns = new IArray[fcount];
+		for (int f = 0; f < fcount; ++f) {
+			columns[f] = new ObjectArray(capacity);
+		}
+
+		this.columns = columns;
+		return columns;
+	}
+
+	// 按第一批数据中各字段第一个非空值的类型产生数组
+	private IArray[] createColumns(Sequence data, int capacity) {
+		IArray mems = data.getMems();
+		int len = mems.size();
+		int fcount = ds.getFieldCount();
+		IArray []columns = new IArray[fcount];
+
+		for (int f = 0; f < fcount; ++f) {
+			Object value = null;
+			for (int i = 1; i <= len && value == null; ++i) {
+				value = ((BaseRecord)mems.get(i)).getNormalFieldValue(f);
+			}
+
+			columns[f] = newColumn(value, capacity);
+		}
+
+		return columns;
+	}
+
+	// 按第一个非空值的类型产生数组
+	private static IArray newColumn(IArray array, int capacity) {
+		Object value = null;
+		for (int i = 1, len = array.size(); i <= len && value == null; ++i) {
+			value = array.get(i);
+		}
+
+		return newColumn(value, capacity);
+	}
+
+	private static IArray newColumn(Object value, int capacity) {
+		if (value instanceof Integer) {
+			return new IntArray(capacity);
+		} else if (value instanceof Long) {
+			return new LongArray(capacity);
+		} else if (value instanceof Double) {
+			return new DoubleArray(capacity);
+		} else if (value instanceof String) {
+			return new StringArray(capacity);
+		} else if (value instanceof java.util.Date) {
+			return new DateArray(capacity);
+		} else {
+			return new ObjectArray(capacity);
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static HashMap<String, String>[] createDicts(IArray []columns) {
+		int fcount = columns.length;
+		HashMap<String, String> []dicts = new HashMap[fcount];
+		for (int f = 0; f < fcount; ++f) {
+			if (columns[f] instanceof StringArray) {
+				dicts[f] = new HashMap<String, String>();
+			}
+		}
+
+		return dicts;
+	}
+
+	// 值能否存入数组
+	private static boolean isTypeMatch(IArray column, Object value) {
+		if (column instanceof IntArray) {
+			return value instanceof Integer;
+		} else if (column instanceof LongArray) {
+			return value instanceof Long;
+		} else if (column instanceof DoubleArray) {
+			return value instanceof Double;
+		} else if (column instanceof StringArray) {
+			return value instanceof String;
+		} else if (column instanceof DateArray) {
+			return value instanceof java.util.Date;
+		} else {
+			return true;
+		}
+	}
+
+	public DataStruct dataStruct() {
+		return ds;
+	}
+
+	/**
+	 * 取字段的值数组，调用者不能修改返回的数组
+	 * @param f 字段序号，从0开始计数
+	 * @return IArray
+	 */
+	public IArray getColumn(int f) {
+		return columns[f];
+	}
+
+	/**
+	 * 取所有字段的值数组
+	 * @return IArray[]
+	 */
+	public IArray[] getArrays() {
+		return columns;
+	}
+
+	/**
+	 * 列存储没有压缩列，返回空
+	 */
+	public Column[] getColumns() {
+		return null;
+	}
+
+	/**
+	 * 读记录，被索引找到过的记录返回同一条记录，否则产生新记录
+	 */
+	public Object get(int index) {
+		Record []records = this.records;
+		if (records != null && records[index] != null) {
+			return records[index];
+		}
+
+		LastRecord last = lastRecord.get();
+		if (last == null) {
+			last = new LastRecord();
+			lastRecord.set(last);
+		} else if (last.record != null && last.index == index && last.version == version) {
+			return last.record;
+		}
+
+		Record r = newRecord(index);
+		last.record = r;
+		last.index = index;
+		last.version = version;
+		return r;
+	}
+
+	/**
+	 * 取记录并保留，再次取时返回同一条记录，用于索引查找和外键引用
+	 * @param index 行号，从1开始计数
+	 * @return Record
+	 */
+	public synchronized Record getRecord(int index) {
+		Record []records = this.records;
+		if (records == null) {
+			records = new Record[size + 1];
+			this.records = records;
+		}
+
+		Record r = records[index];
+		if (r == null) {
+			r = newRecord(index);
+			records[index] = r;
+		}
+
+		return r;
+	}
+
+	private Record newRecord(int index) {
+		IArray []columns = this.columns;
+		Record r = new Record(ds);
+		for (int f = 0, fcount = columns.length; f < fcount; ++f) {
+			r.setNormalFieldValue(f, columns[f].get(index));
+		}
+
+		return r;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int count() {
+		return size;
+	}
+
+	public boolean isNull(int index) {
+		return false;
+	}
+
+	public boolean hasRecord() {
+		return true;
+	}
+
+	public boolean isPmt(boolean isPure) {
+		return true;
+	}
+
+	public boolean isTemporary() {
+		return false;
+	}
+
+	/**
+	 * 没有保留的记录每次访问时都产生新记录，按字段值计算哈希值
+	 */
+	public int hashCode(int index) {
+		IArray []columns = this.columns;
+		int hash = 0;
+		for (int f = 0, fcount = columns.length; f < fcount; ++f) {
+			hash = 31 * hash + columns[f].hashCode(index);
+		}
+
+		return hash;
+	}
+
+	public Object[] toArray() {
+		Object []result = new Object[size];
+		toArray(result);
+		return result;
+	}
+
+	public void toArray(Object a[]) {
+		for (int i = 1, size = this.size; i <= size; i++) {
+			a[i - 1] = get(i);
+		}
+	}
+
+	public ObjectArray toObjectArray() {
+		return new ObjectArray(toArray());
+	}
+
+	public IArray dup() {
+		return toObjectArray();
+	}
+
+	public IArray newInstance(int count) {
+		return new ObjectArray(count);
+	}
+
+	public IArray rvs() {
+		int size = this.size;
+		Object []datas = new Object[size];
+		for (int i = 0; i < size; ++i) {
+			datas[i] = get(size - i);
+		}
+
+		return new ObjectArray(datas);
+	}
+
+	public IArray get(int []indexArray) {
+		int len = indexArray.length;
+		ObjectArray result = new ObjectArray(len);
+		for (int i = 0; i < len; ++i) {
+			result.push(get(indexArray[i]));
+		}
+
+		return result;
+	}
+
+	public IArray get(int []indexArray, int start, int end, boolean doCheck) {
+		ObjectArray result = new ObjectArray(end - start + 1);
+		for (int i = start; i <= end; ++i) {
+			int index = indexArray[i];
+			if (doCheck && (index < 1 || index > size)) {
+				result.push(null);
+			} else {
+				result.push(get(index));
+			}
+		}
+
+		return result;
+	}
+
+	public IArray get(NumberArray indexArray) {
+		int len = indexArray.size();
+		ObjectArray result = new ObjectArray(len);
+		for (int i = 1; i <= len; ++i) {
+			result.push(get(indexArray.getInt(i)));
+		}
+
+		return result;
+	}
+
+	public IArray get(int start, int end) {
+		ObjectArray result = new ObjectArray(end - start);
+		for (int i = start; i < end; ++i) {
+			result.push(get(i));
+		}
+
+		return result;
+	}
+
+	public IArray select(IArray signArray) {
+		int len = signArray.size();
+		ObjectArray result = new ObjectArray(len);
+		for (int i = 1; i <= len; ++i) {
+			if (signArray.isTrue(i)) {
+				result.push(get(i));
+			}
+		}
+
+		return result;
+	}
+
+	public String getDataType() {
+		MessageManager mm = EngineMessage.get();
+		return mm.getMessage(size > 0 ? "DataType.Record" : "DataType.Null");
+	}
+
+	public boolean isTrue(int index) {
+		return true;
+	}
+
+	public boolean isFalse(int index) {
+		return false;
+	}
+
+	public BoolArray isTrue() {
+		BoolArray result = new BoolArray(true, size);
+		result.setTemporary(true);
+		return result;
+	}
+
+	public BoolArray isFalse() {
+		BoolArray result = new BoolArray(false, size);
+		result.setTemporary(true);
+		return result;
+	}
+
+	public boolean containTrue() {
+		return size > 0;
+	}
+
+	public Object ifn() {
+		return size > 0 ? get(1) : null;
+	}
+
+	public boolean isNumberArray() {
+		return false;
+	}
+
+	// 判断记录是否是第i行，没有保留的行每次访问时都产生新记录，所以结构相同并且字段值都相等的记录也认为是这一行
+	private boolean isRow(int i, Object elem) {
+		Record []records = this.records;
+		if (records != null && records[i] == elem) {
+			return true;
+		} else if (!(elem instanceof BaseRecord)) {
+			return false;
+		}
+
+		BaseRecord r = (BaseRecord)elem;
+		if (r.dataStruct() != ds) {
+			return false;
+		}
+
+		IArray []columns = this.columns;
+		for (int f = 0, fcount = columns.length; f < fcount; ++f) {
+			if (!columns[f].isEquals(i, r.getNormalFieldValue(f))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	public boolean contains(Object elem) {
+		return firstIndexOf(elem, 1) > 0;
+	}
+
+	public void contains(boolean isSorted, IArray array, BoolArray result) {
+		// 记录之间没有可用于二分查找的顺序，都按行查找
+		for (int i = 1, resultSize = result.size(); i <= resultSize; ++i) {
+			if (result.isTrue(i) && !contains(array.get(i))) {
+				result.set(i, false);
+			}
+		}
+	}
+
+	public boolean objectContains(Object elem) {
+		return firstIndexOf(elem, 1) > 0;
+	}
+
+	public int firstIndexOf(Object elem, int start) {
+		for (int i = start, size = this.size; i <= size; ++i) {
+			if (isRow(i, elem)) {
+				return i;
+			}
+		}
+
+		return 0;
+	}
+
+	public int lastIndexOf(Object elem, int start) {
+		for (int i = start; i > 0; --i) {
+			if (isRow(i, elem)) {
+				return i;
+			}
+		}
+
+		return 0;
+	}
+
+	public IntArray indexOfAll(Object elem, int start, boolean isSorted, boolean isFromHead) {
+		IntArray result = new IntArray(7);
+		if (isFromHead) {
+			for (int i = start, size = this.size; i <= size; ++i) {
+				if (isRow(i, elem)) {
+					result.addInt(i);
+				}
+			}
+		} else {
+			for (int i = start; i > 0; --i) {
+				if (isRow(i, elem)) {
+					result.addInt(i);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * 记录之间没有可用于二分查找的顺序，按行查找，找不到时返回-1
+	 */
+	public int binarySearch(Object elem) {
+		return binarySearch(elem, 1, size);
+	}
+
+	/**
+	 * 记录之间没有可用于二分查找的顺序，按行查找，找不到时返回-1
+	 */
+	public int binarySearch(Object elem, int start, int end) {
+		for (int i = start; i <= end; ++i) {
+			if (isRow(i, elem)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	public boolean isEquals(int curIndex, Object value) {
+		return isRow(curIndex, value);
+	}
+
+	public boolean isEquals(int curIndex, IArray array, int index) {
+		if (array instanceof ArrayColumnList && ((ArrayColumnList)array).ds == ds) {
+			IArray []columns = this.columns;
+			IArray []otherColumns = ((ArrayColumnList)array).columns;
+			for (int f = 0, fcount = columns.length; f < fcount; ++f) {
+				if (!columns[f].isEquals(curIndex, otherColumns[f], index)) {
+					return false;
+				}
+			}
+
+			return true;
+		} else {
+			return isRow(curIndex, array.get(index));
+		}
+	}
+
+	public boolean isMemberEquals(int index1, int index2) {
+		IArray []columns = this.columns;
+		for (int f = 0, fcount = columns.length; f < fcount; ++f) {
+			if (!columns[f].isMemberEquals(index1, index2)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * 同结构的记录按字段值比较，其它值跟记录按通常的规则比较
+	 */
+	public int compareTo(int curIndex, Object value) {
+		if (value instanceof BaseRecord && ((BaseRecord)value).dataStruct() == ds) {
+			BaseRecord r = (BaseRecord)value;
+			IArray []columns = this.columns;
+			for (int f = 0, fcount = columns.length; f < fcount; ++f) {
+				int cmp = columns[f].compareTo(curIndex, r.getNormalFieldValue(f));
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+
+			return 0;
+		} else {
+			return Variant.compare(get(curIndex), value, true);
+		}
+	}
+
+	public int compareTo(int curIndex, IArray array, int index) {
+		if (array instanceof ArrayColumnList && ((ArrayColumnList)array).ds == ds) {
+			IArray []columns = this.columns;
+			IArray []otherColumns = ((ArrayColumnList)array).columns;
+			for (int f = 0, fcount = columns.length; f < fcount; ++f) {
+				int cmp = columns[f].compareTo(curIndex, otherColumns[f], index);
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+
+			return 0;
+		} else {
+			return compareTo(curIndex, array.get(index));
+		}
+	}
+
+	public int memberCompare(int index1, int index2) {
+		IArray []columns = this.columns;
+		for (int f = 0, fcount = columns.length; f < fcount; ++f) {
+			int cmp = columns[f].memberCompare(index1, index2);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+
+		return 0;
+	}
+
+	public int compareTo(IArray array) {
+		int size1 = this.size;
+		int size2 = array.size();
+		int size = size1;
+		int result = 0;
+		if (size1 < size2) {
+			result = -1;
+		} else if (size1 > size2) {
+			result = 1;
+			size = size2;
+		}
+
+		for (int i = 1; i <= size; ++i) {
+			int cmp = compareTo(i, array, i);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+
+		return result;
+	}
+
+	// 以下运算的成员是记录，记录不能参与算术运算，转成记录数组后按对象数组的规则计算
+
+	public IArray abs() {
+		return toObjectArray().abs();
+	}
+
+	public IArray negate() {
+		return toObjectArray().negate();
+	}
+
+	/**
+	 * 记录都不为空，取非的结果都为假
+	 */
+	public IArray not() {
+		BoolArray result = new BoolArray(false, size);
+		result.setTemporary(true);
+		return result;
+	}
+
+	public IArray memberAdd(IArray array) {
+		return toObjectArray().memberAdd(array);
+	}
+
+	public IArray memberAdd(Object value) {
+		return toObjectArray().memberAdd(value);
+	}
+
+	/**
+	 * 只取当前行的记录计算，记录加非空值时抛出类型不匹配的异常
+	 */
+	public IArray memberAdd(int curIndex, IArray array, int index) {
+		if (!array.isNull(index)) {
+			Variant.add(get(curIndex), array.get(index));
+		}
+
+		return this;
+	}
+
+	public IArray memberSubtract(IArray array) {
+		return toObjectArray().memberSubtract(array);
+	}
+
+	public IArray memberMultiply(IArray array) {
+		return toObjectArray().memberMultiply(array);
+	}
+
+	public IArray memberMultiply(Object value) {
+		return toObjectArray().memberMultiply(value);
+	}
+
+	public IArray memberDivide(IArray array) {
+		return toObjectArray().memberDivide(array);
+	}
+
+	public IArray memberMod(IArray array) {
+		return toObjectArray().memberMod(array);
+	}
+
+	public IArray memberIntDivide(IArray array) {
+		return toObjectArray().memberIntDivide(array);
+	}
+
+	public IArray bitwiseAnd(IArray array) {
+		return toObjectArray().bitwiseAnd(array);
+	}
+
+	// 比较结果是否满足关系，记录都不为空，逻辑与、或只取决于另一个值
+	private static boolean isMatch(int cmp, int relation) {
+		switch (relation) {
+		case Relation.EQUAL:
+			return cmp == 0;
+		case Relation.GREATER:
+			return cmp > 0;
+		case Relation.GREATER_EQUAL:
+			return cmp >= 0;
+		case Relation.LESS:
+			return cmp < 0;
+		case Relation.LESS_EQUAL:
+			return cmp <= 0;
+		default: // Relation.NOT_EQUAL
+			return cmp != 0;
+		}
+	}
+
+	// 计算第i行与另一个数组第i行的关系，同结构的记录直接比较列值，不产生记录
+	private boolean calcRelation(int i, IArray array, int relation) {
+		if (relation == Relation.AND) {
+			return array.isTrue(i);
+		} else if (relation == Relation.OR) {
+			return true;
+		} else {
+			return isMatch(compareTo(i, array, i), relation);
+		}
+	}
+
+	// 计算第i行与值的关系
+	private boolean calcRelation(int i, Object value, int relation) {
+		if (relation == Relation.AND) {
+			return Variant.isTrue(value);
+		} else if (relation == Relation.OR) {
+			return true;
+		} else {
+			return isMatch(compareTo(i, value), relation);
+		}
+	}
+
+	public BoolArray calcRelation(IArray array, int relation) {
+		int size = this.size;
+		boolean []resultDatas = new boolean[size + 1];
+		for (int i = 1; i <= size; ++i) {
+			resultDatas[i] = calcRelation(i, array, relation);
+		}
+
+		BoolArray result = new BoolArray(resultDatas, size);
+		result.setTemporary(true);
+		return result;
+	}
+
+	public BoolArray calcRelation(Object value, int relation) {
+		int size = this.size;
+		boolean []resultDatas = new boolean[size + 1];
+		for (int i = 1; i <= size; ++i) {
+			resultDatas[i] = calcRelation(i, value, relation);
+		}
+
+		BoolArray result = new BoolArray(resultDatas, size);
+		result.setTemporary(true);
+		return result;
+	}
+
+	public void calcRelations(IArray array, int relation, BoolArray result, boolean isAnd) {
+		boolean []resultDatas = result.getDatas();
+		for (int i = 1, size = this.size; i <= size; ++i) {
+			if (resultDatas[i] == isAnd) {
+				resultDatas[i] = calcRelation(i, array, relation);
+			}
+		}
+	}
+
+	public void calcRelations(Object value, int relation, BoolArray result, boolean isAnd) {
+		boolean []resultDatas = result.getDatas();
+		for (int i = 1, size = this.size; i <= size; ++i) {
+			if (resultDatas[i] == isAnd) {
+				resultDatas[i] = calcRelation(i, value, relation);
+			}
+		}
+	}
+
+	/**
+	 * 只取当前行的记录，记录不是数时抛出类型转换异常，和对象数组一致
+	 */
+	public int getInt(int index) {
+		return ((Number)get(index)).intValue();
+	}
+
+	public long getLong(int index) {
+		return ((Number)get(index)).longValue();
+	}
+
+	public Object sum() {
+		return toObjectArray().sum();
+	}
+
+	public Object average() {
+		return toObjectArray().average();
+	}
+
+	public Object max() {
+		return toObjectArray().max();
+	}
+
+	public Object min() {
+		return toObjectArray().min();
+	}
+
+	public IntArray ptop(int count, boolean isAll, boolean isLast, boolean ignoreNull) {
+		return toObjectArray().ptop(count, isAll, isLast, ignoreNull);
+	}
+
+	public IArray combine(IArray signArray, IArray other) {
+		return toObjectArray().combine(signArray, other);
+	}
+
+	public IArray combine(IArray signArray, Object value) {
+		return toObjectArray().combine(signArray, value);
+	}
+
+	public IArray toPureArray() {
+		return toObjectArray();
+	}
+
+	public byte[] serialize() throws IOException {
+		return toObjectArray().serialize();
+	}
+
+	public void writeExternal(ObjectOutput out) throws IOException {
+		out.writeByte(1); // 版本号
+		out.writeObject(ds);
+		out.writeInt(size);
+		out.writeObject(columns);
+	}
+
+	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+		in.readByte(); // 版本号
+		ds = (DataStruct)in.readObject();
+		size = in.readInt();
+		columns = (IArray[])in.readObject();
+	}
+
+	public void trimToSize() {
+		IArray []columns = this.columns;
+		for (int f = 0, fcount = columns.length; f < fcount; ++f) {
+			columns[f].trimToSize();
+		}
+	}
+
+	public void ensureCapacity(int minCapacity) {
+	}
+
+	// 列存内表是只读的，修改成员的方法都抛出异常
+
+	private static RQException modifyError() {
+		MessageManager mm = EngineMessage.get();
+		return new RQException(mm.getMessage("pdm.modifyError"));
+	}
+
+	public void fillRecord(byte[] bytes) throws IOException, ClassNotFoundException {
+		throw modifyError();
+	}
+
+	public void add(Object o) {
+		throw modifyError();
+	}
+
+	public void addAll(Object[] array) {
+		throw modifyError();
+	}
+
+	public void addAll(IArray array) {
+		throw modifyError();
+	}
+
+	public void addAll(IArray array, int count) {
+		throw modifyError();
+	}
+
+	public void add(IArray array, int index) {
+		throw modifyError();
+	}
+
+	public void insert(int index, Object o) {
+		throw modifyError();
+	}
+
+	public void insertAll(int pos, IArray array) {
+		throw modifyError();
+	}
+
+	public void insertAll(int pos, Object[] array) {
+		throw modifyError();
+	}
+
+	public void push(Object o) {
+		throw modifyError();
+	}
+
+	public void push(IArray array, int index) {
+		throw modifyError();
+	}
+
+	public void pushNull() {
+		throw modifyError();
+	}
+
+	public void set(int index, Object obj) {
+		throw modifyError();
+	}
+
+	public void set(int curIndex, IArray array, int index) {
+		throw modifyError();
+	}
+
+	public void remove(int index) {
+		throw modifyError();
+	}
+
+	public void remove(int[] seqs) {
+		throw modifyError();
+	}
+
+	public void removeRange(int fromIndex, int toIndex) {
+		throw modifyError();
+	}
+
+	public void removeLast() {
+		throw modifyError();
+	}
+
+	public void clear() {
+		throw modifyError();
+	}
+
+	public void reserve(int start, int end) {
+		throw modifyError();
+	}
+
+	public IArray split(int pos) {
+		throw modifyError();
+	}
+
+	public IArray split(int from, int to) {
+		throw modifyError();
+	}
+
+	public void sort() {
+		throw modifyError();
+	}
+
+	public void sort(Comparator<Object> comparator) {
+		throw modifyError();
+	}
+
+	public void setSize(int size) {
+		throw modifyError();
+	}
+
+	/**
+	 * 按条件选出行，结果还是列存储
+	 * @param signArray 每行是否选出
+	 * @return ArrayColumnList
+	 */
+	public ArrayColumnList selectColumns(IArray signArray) {
+		IArray []columns = this.columns;
+		int fcount = columns.length;
+		IArray []resultColumns = new IArray[fcount];
+		for (int f = 0; f < fcount; ++f) {
+			resultColumns[f] = columns[f].select(signArray);
+		}
+
+		int count = fcount > 0 ? resultColumns[0].size() : 0;
+		return new ArrayColumnList(ds, resultColumns, count);
+	}
+
+	/**
+	 * 取指定区间的行，结果还是列存储
+	 * @param start 起始行，包含
+	 * @param end 结束行，不包含
+	 * @return ArrayColumnList
+	 */
+	public ArrayColumnList getColumns(int start, int end) {
+		IArray []columns = this.columns;
+		int fcount = columns.length;
+		IArray []resultColumns = new IArray[fcount];
+		for (int f = 0; f < fcount; ++f) {
+			resultColumns[f] = columns[f].get(start, end);
+		}
+
+		return new ArrayColumnList(ds, resultColumns, end - start);
+	}
+
+	/**
+	 * 把外键字段的值换成维表的记录，外键列改成记录数组，用维表的索引按列查找
+	 * @param fkNames 外键字段名
+	 * @param codes 维表
+	 * @param exps 维表的主键表达式
+	 * @param opt i：删除找不到的行，d：只保留找不到的行
+	 * @param ctx 计算上下文
+	 */
+	public void switchFk(String[] fkNames, Sequence[] codes, Expression[] exps, String opt, Context ctx) {
+		if (fkNames == null) {
+			return;
+		}
+
+		boolean isIsect = false, isDiff = false;
+		if (opt != null) {
+			if (opt.indexOf('i') != -1) {
+				isIsect = true;
+			} else if (opt.indexOf('d') != -1) {
+				isDiff = true;
+			}
+		}
+
+		int fkCount = fkNames.length;
+		for (int f = 0; f < fkCount; ++f) {
+			int fk = ds.getFieldIndex(fkNames[f]);
+			if (fk == -1) {
+				MessageManager mm = EngineMessage.get();
+				throw new RQException(fkNames[f] + mm.getMessage("ds.fieldNotExist"));
+			}
+
+			Sequence code = codes[f];
+			Expression exp = exps != null && exps.length > f ? exps[f] : null;
+			IArray keys = columns[fk];
+			int len = size;
+			int []pos;
+
+			if (exp != null && exp.getHome() instanceof CurrentSeq) { // #
+				int codeLen = code.length();
+				pos = new int[len + 1];
+				for (int i = 1; i <= len; ++i) {
+					Object val = keys.get(i);
+					if (val instanceof Number) {
+						int seq = ((Number)val).intValue();
+						if (seq > 0 && seq <= codeLen) {
+							pos[i] = seq;
+						}
+					}
+				}
+			} else {
+				IndexTable indexTable = code.getIndexTable(exp, ctx);
+				if (indexTable == null) {
+					indexTable = code.newIndexTable(exp, ctx);
+				}
+
+				pos = indexTable.findAllPos(keys);
+			}
+
+			if (isIsect || isDiff) {
+				// 先删除不需要的行
+				boolean []signs = new boolean[len + 1];
+				int count = 0;
+				for (int i = 1; i <= len; ++i) {
+					if ((pos[i] > 0) != isDiff) {
+						signs[i] = true;
+						count++;
+					}
+				}
+
+				if (count < len) {
+					BoolArray signArray = new BoolArray(signs, len);
+					for (int c = 0; c < columns.length; ++c) {
+						columns[c] = columns[c].select(signArray);
+					}
+
+					int []tmp = new int[count + 1];
+					for (int i = 1, q = 1; i <= len; ++i) {
+						if (signs[i]) {
+							tmp[q++] = pos[i];
+						}
+					}
+
+					pos = tmp;
+					size = count;
+					len = count;
+					records = null;
+					version++;
+				}
+
+				if (isDiff) {
+					// 保留源值
+					continue;
+				}
+			}
+
+			ObjectArray refs = new ObjectArray(len);
+			ArrayColumnList codeList = null;
+			if (code.getMems() instanceof ArrayColumnList) {
+				codeList = (ArrayColumnList)code.getMems();
+			}
+
+			for (int i = 1; i <= len; ++i) {
+				int p = pos[i];
+				if (p < 1) {
+					refs.push(null);
+				} else if (codeList != null) {
+					refs.push(codeList.getRecord(p));
+				} else {
+					refs.push(code.getMem(p));
+				}
+			}
+
+			columns[fk] = refs;
+			version++;
+			if (records != null) {
+				records = null;
+			}
+		}
+	}
+}
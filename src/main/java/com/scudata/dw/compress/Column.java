@@ -5,21 +5,21 @@ import java.io.IOException;
 import com.scudata.dw.BufferReader;
 
 /**
- * ڴ
- * ʹûʹһ
+ * 内存列
+ * 使用基础类型存一列数据
  * @author runqian
  *
  */
 public abstract class Column implements Cloneable {
-	public static final int BLOCK_RECORD_COUNT = 8192; // ÿ¼
+	public static final int BLOCK_RECORD_COUNT = 8192; // 每块记录数
 	/**
-	 * ׷һе
+	 * 追加一行的数据
 	 * @param data
 	 */
 	abstract public void addData(Object data);
 	
 	/**
-	 * ȡrowе
+	 * 取第row行的数据
 	 * @param row
 	 * @return
 	 */
@@ -28,7 +28,7 @@ public abstract class Column implements Cloneable {
 	abstract public Column clone();
 	
 	/**
-	 * brһ׷ӵ
+	 * 从br都一个对象，追加到列
 	 * @param br
 	 * @throws IOException
 	 */
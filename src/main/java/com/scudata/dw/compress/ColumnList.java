@@ -16,7 +16,6 @@ import com.scudata.common.RQException;
 import com.scudata.dm.BaseRecord;
 import com.scudata.dm.Context;
 import com.scudata.dm.DataStruct;
-import com.scudata.dm.HashIndexTable;
 import com.scudata.dm.IndexTable;
 import com.scudata.dm.Record;
 import com.scudata.dm.Sequence;
@@ -27,8 +26,8 @@ import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
 /**
- * еList
- * ֻ֧intlongdoubleBigDecimalStringDataTimeStampTime
+ * 多个列的List
+ * 列类型只支持int、long、double、BigDecimal、String、Data、TimeStamp、Time
  * @author runqian
  *
  */
@@ -47,7 +46,7 @@ public class ColumnList implements IArray {
 	}
 	
 	/**
-	 * αcsڴѹ
+	 * 把游标cs读成内存压缩表
 	 * @param cs
 	 */
 	public ColumnList(ICursor cs) {
@@ -116,7 +115,7 @@ public class ColumnList implements IArray {
 	}
 	
 	/**
-	 * αcsnѹ
+	 * 从游标cs读n条，存入压缩表
 	 * @param cs
 	 * @param n
 	 */
@@ -197,7 +196,7 @@ public class ColumnList implements IArray {
 	}
 	
 	/**
-	 * ¼
+	 * 读记录
 	 */
 	public Object get(int index) {
 		Record record = new Record(ds);
@@ -241,7 +240,7 @@ public class ColumnList implements IArray {
 	}
 
 	/**
-	 * ڴ
+	 * 建立内存索引
 	 * @param codes
 	 * @param exps
 	 * @param ctx
@@ -299,7 +298,7 @@ public class ColumnList implements IArray {
 				if (indexTable != null) {
 					for (int i = 1; i <= len; ++i) {
 						Object key = oldColumn.getData(i);
-						int seq = ((HashIndexTable)indexTable).findPos(key);
+						int seq = indexTable.findPos(key);
 						column.addData(seq);
 					}
 				} else { // #
@@ -407,9 +406,9 @@ public class ColumnList implements IArray {
 				if (indexTable != null) {
 					for (int i = 1; i <= len; ++i) {
 						Object key = oldColumn.getData(i);
-						int seq = ((HashIndexTable)indexTable).findPos(key);
+						int seq = indexTable.findPos(key);
 						if (isDiff) {
-							// ҲʱԴֵ
+							// 找不到时保留源值
 							if (seq > 0) {
 								column.addData(-1);
 							}
@@ -424,7 +423,7 @@ public class ColumnList implements IArray {
 						if (val instanceof Number) {
 							int seq = ((Number)val).intValue();
 							if (isDiff) {
-								// ҲʱԴֵ
+								// 找不到时保留源值
 								if (seq > 0 && seq <= codeLen) {
 									column.addData(-1);
 								}
@@ -446,7 +445,7 @@ public class ColumnList implements IArray {
 						Object key = oldColumn.getData(i);
 						Object obj = indexTable.find(key);
 						if (isDiff) {
-							// ҲʱԴֵ
+							// 找不到时保留源值
 							if (obj != null) {
 								column.addData(null);
 							}
@@ -461,7 +460,7 @@ public class ColumnList implements IArray {
 						if (val instanceof Number) {
 							int seq = ((Number)val).intValue();
 							if (isDiff) {
-								// ҲʱԴֵ
+								// 找不到时保留源值
 								if (seq > 0 && seq <= codeLen) {
 									column.addData(-1);
 								}
@@ -556,7 +555,7 @@ public class ColumnList implements IArray {
 	}
 
 	/**
-	 * ׷һճԱΪ㹻ռԪأ
+	 * 追加一个空成员（不检查容量，认为有足够空间存放元素）
 	 */
 	public void pushNull() {
 	}
@@ -818,9 +817,9 @@ public class ColumnList implements IArray {
 	}
 	
 	/**
-	 * жԱǷ
-	 * @param index1 Ա1
-	 * @param index2 Ա2
+	 * 判断数组的两个成员是否相等
+	 * @param index1 成员1
+	 * @param index2 成员2
 	 * @return
 	 */
 	public boolean isMemberEquals(int index1, int index2) {
@@ -968,8 +967,8 @@ public class ColumnList implements IArray {
 	}
 	
 	/**
-	 * л
-	 * @param refOrigin ԴУ
+	 * 保留数组数据用于生成序列或序表
+	 * @param refOrigin 引用源列，不复制数据
 	 * @return
 	 */
 
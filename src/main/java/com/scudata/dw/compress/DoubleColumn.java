@@ -9,12 +9,12 @@ import com.scudata.dw.BufferReader;
 import com.scudata.resources.EngineMessage;
 
 public class DoubleColumn extends Column {
-	// Сֵʾnull
+	// 用最小值表示null
 	private static final double NULL = Double.NaN;
 	
-	// ݰ洢ÿColumn.BLOCK_RECORD_COUNT¼
+	// 数据按块存储，每块存放Column.BLOCK_RECORD_COUNT条记录
 	private ArrayList<double[]> blockList = new ArrayList<double[]>(1024);
-	private int lastRecordCount = Column.BLOCK_RECORD_COUNT; // һļ¼
+	private int lastRecordCount = Column.BLOCK_RECORD_COUNT; // 最后一块的记录数
 	
 	public void addData(Object data) {
 		double value;
@@ -23,7 +23,7 @@ public class DoubleColumn extends Column {
 		} else if (data == null) {
 			value = NULL;
 		} else {
-			// 쳣
+			// 抛异常
 			MessageManager mm = EngineMessage.get();
 			throw new RQException(mm.getMessage("ds.colTypeDif"));
 		}
@@ -39,9 +39,9 @@ public class DoubleColumn extends Column {
 		}
 	}
 	
-	// ȡrowе
+	// 取第row行的数据
 	public Object getData(int row) {
-		// rowкţ1ʼ
+		// row行号，从1开始计数
 		row--;
 		double []block = blockList.get(row / Column.BLOCK_RECORD_COUNT);
 		double value = block[row % Column.BLOCK_RECORD_COUNT];
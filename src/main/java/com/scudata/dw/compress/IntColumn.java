@@ -11,12 +11,12 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.HashUtil;
 
 public class IntColumn extends Column {
-	// Сֵʾnull
+	// 用最小值表示null
 	private static final int NULL = Integer.MIN_VALUE;
 	
-	// ݰ洢ÿColumn.BLOCK_RECORD_COUNT¼
+	// 数据按块存储，每块存放Column.BLOCK_RECORD_COUNT条记录
 	private ArrayList<int[]> blockList = new ArrayList<int[]>(1024);
-	private int lastRecordCount = Column.BLOCK_RECORD_COUNT; // һļ¼
+	private int lastRecordCount = Column.BLOCK_RECORD_COUNT; // 最后一块的记录数
 	
 	public void addData(Object data) {
 		int value;
@@ -25,7 +25,7 @@ public class IntColumn extends Column {
 		} else if (data == null) {
 			value = NULL;
 		} else {
-			// 쳣
+			// 抛异常
 			MessageManager mm = EngineMessage.get();
 			throw new RQException(mm.getMessage("ds.colTypeDif"));
 		}
@@ -41,9 +41,9 @@ public class IntColumn extends Column {
 		}
 	}
 	
-	// ȡrowе
+	// 取第row行的数据
 	public Object getData(int row) {
-		// rowкţ1ʼ
+		// row行号，从1开始计数
 		row--;
 		int []block = blockList.get(row / Column.BLOCK_RECORD_COUNT);
 		int value = block[row % Column.BLOCK_RECORD_COUNT];
@@ -55,9 +55,9 @@ public class IntColumn extends Column {
 		}
 	}
 	
-	// ȡrowе
+	// 取第row行的数据
 	public int getValue(int row) {
-		// rowкţ1ʼ
+		// row行号，从1开始计数
 		row--;
 		int []block = blockList.get(row / Column.BLOCK_RECORD_COUNT);
 		int value = block[row % Column.BLOCK_RECORD_COUNT];
@@ -12,7 +12,7 @@ public class NullColumn extends Column {
 
 	}
 	
-	// ȡrowе
+	// 取第row行的数据
 	public Object getData(int row) {
 		return null;
 	}
@@ -6,9 +6,9 @@ import java.util.ArrayList;
 import com.scudata.dw.BufferReader;
 
 public class RefColumn extends Column {
-	// ݰ洢ÿColumn.BLOCK_RECORD_COUNT¼
+	// 数据按块存储，每块存放Column.BLOCK_RECORD_COUNT条记录
 	private ArrayList<Object[]> blockList = new ArrayList<Object[]>(1024);
-	private int lastRecordCount = Column.BLOCK_RECORD_COUNT; // һļ¼
+	private int lastRecordCount = Column.BLOCK_RECORD_COUNT; // 最后一块的记录数
 	
 	public void addData(Object r) {
 		if (lastRecordCount < Column.BLOCK_RECORD_COUNT) {
@@ -22,9 +22,9 @@ public class RefColumn extends Column {
 		}
 	}
 	
-	// ȡrowе
+	// 取第row行的数据
 	public Object getData(int row) {
-		// rowкţ1ʼ
+		// row行号，从1开始计数
 		row--;
 		Object []block = blockList.get(row / Column.BLOCK_RECORD_COUNT);
 		return block[row % Column.BLOCK_RECORD_COUNT];
@@ -8,11 +8,11 @@ import com.scudata.dm.Sequence;
 import com.scudata.dw.BufferReader;
 
 public class SeqRefColumn extends Column {
-	private Sequence table; // õı
+	private Sequence table; // 引用的表
 	
-	// ݰ洢ÿColumn.BLOCK_RECORD_COUNT¼
+	// 数据按块存储，每块存放Column.BLOCK_RECORD_COUNT条记录
 	private ArrayList<int[]> blockList = new ArrayList<int[]>(1024);
-	private int lastRecordCount = Column.BLOCK_RECORD_COUNT; // һļ¼
+	private int lastRecordCount = Column.BLOCK_RECORD_COUNT; // 最后一块的记录数
 	
 	public SeqRefColumn() {
 	}
@@ -22,8 +22,8 @@ public class SeqRefColumn extends Column {
 	}
 	
 	/**
-	 * ü¼
-	 * @param seq ֶָָļ¼е
+	 * 添加引用记录的序号
+	 * @param seq 指引字段指向的记录在排列中的序号
 	 */
 	public void addData(int seq) {
 		if (lastRecordCount < Column.BLOCK_RECORD_COUNT) {
@@ -41,9 +41,9 @@ public class SeqRefColumn extends Column {
 		throw new RQException();
 	}
 	
-	// ȡrowе
+	// 取第row行的数据
 	public Object getData(int row) {
-		// rowкţ1ʼ
+		// row行号，从1开始计数
 		row--;
 		int []block = blockList.get(row / Column.BLOCK_RECORD_COUNT);
 		int value = block[row % Column.BLOCK_RECORD_COUNT];
@@ -54,9 +54,9 @@ public class SeqRefColumn extends Column {
 		}
 	}
 	
-	// ȡrowеseq
+	// 取第row行的seq
 	public int getSeq(int row) {
-		// rowкţ1ʼ
+		// row行号，从1开始计数
 		row--;
 		int []block = blockList.get(row / Column.BLOCK_RECORD_COUNT);
 		int value = block[row % Column.BLOCK_RECORD_COUNT];
@@ -11,22 +11,22 @@ import com.scudata.resources.EngineMessage;
 public class StringColumn extends Column {
 	private static final int NULL = -1;
 	
-	// ݰ洢ÿColumn.BLOCK_RECORD_COUNT¼
+	// 数据按块存储，每块存放Column.BLOCK_RECORD_COUNT条记录
 	private ArrayList<char[]> blockList = new ArrayList<char[]>(1024);
 	
-	// blockListӦλ, -1ʾnull
+	// 数据在blockList里对应块的位置, -1表示null
 	private ArrayList<int[]> posList = new ArrayList<int[]>(1024);
-	private int lastRecordCount = Column.BLOCK_RECORD_COUNT; // һļ¼
-	private int nextPos = -1; // һд뵽bufferеλ
+	private int lastRecordCount = Column.BLOCK_RECORD_COUNT; // 最后一块的记录数
+	private int nextPos = -1; // 下一行写入到buffer中的位置
 	
-	// ¿ʱʹbufferbufferʱ1.5ȵbuffer¼дʵʵĴС浽blockList
+	// 申请新块时使用buffer，buffer不足时重新申请1.5倍长度的新buffer，块记录数写满后则复制实际的大小保存到blockList中
 	private char []buffer = new char[65536];
 	
-	// ׷һе
+	// 追加一行的数据
 	public void addData(Object data) {
 		if (lastRecordCount == Column.BLOCK_RECORD_COUNT) {
 			if (blockList.size() > 0) {
-				// ¼дСΪʵʴС
+				// 块记录数写满后调整块大小为实际大小
 				char []block = new char[nextPos];
 				System.arraycopy(buffer, 0, block, 0, nextPos);
 				blockList.set(blockList.size() - 1, block);
@@ -44,7 +44,7 @@ public class StringColumn extends Column {
 			int len = str.length();
 			int free = buffer.length - nextPos;
 			
-			// һĻռ䲻һĻ
+			// 如果最后一块的缓存区空间不足则重新申请一块大的缓冲区
 			if (free < len) {
 				char []tmp = new char[buffer.length * 3 / 2];
 				System.arraycopy(buffer, 0, tmp, 0, buffer.length);
@@ -60,15 +60,15 @@ public class StringColumn extends Column {
 			int []posBlock = posList.get(posList.size() - 1);
 			posBlock[lastRecordCount++] = NULL;
 		} else {
-			// 쳣
+			// 抛异常
 			MessageManager mm = EngineMessage.get();
 			throw new RQException(mm.getMessage("ds.colTypeDif"));
 		}
 	}
 	
-	// ȡrowе
+	// 取第row行的数据
 	public Object getData(int row) {
-		// rowкţ1ʼ
+		// row行号，从1开始计数
 		row--;
 		int b = row / Column.BLOCK_RECORD_COUNT;
 		int index = row % Column.BLOCK_RECORD_COUNT;
@@ -82,7 +82,7 @@ public class StringColumn extends Column {
 		char []block = blockList.get(b);
 		int endPos;
 		
-		// Ƿһ
+		// 是否最后一块
 		if (b == blockList.size() - 1) {
 			endPos = nextPos;
 			for (int i = index + 1, end = lastRecordCount; i < end; ++i) {
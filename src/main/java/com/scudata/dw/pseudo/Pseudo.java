@@ -21,10 +21,10 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 public class Pseudo extends IPseudo {
-	protected PseudoDefination pd;//ʵĶ
-	protected Sequence cache = null;//importĽcache
+	protected PseudoDefination pd;//实表的定义
+	protected Sequence cache = null;//对import的结果的cache
 	
-	//αҪĲ
+	//创建游标需要的参数
 	protected String []names;
 	protected Expression []exps;
 	protected Context ctx;
@@ -34,10 +34,10 @@ public class Pseudo extends IPseudo {
 	protected ArrayList<Sequence> codeList;
 	protected ArrayList<String> optList;
 	
-	protected ArrayList<String> extraNameList;//Ϊ˻αֶζҪȡֶ
-	protected ArrayList<String> allNameList;//ʵֶ
+	protected ArrayList<String> extraNameList;//因为过滤或伪字段而需要额外取出的字段名
+	protected ArrayList<String> allNameList;//实表的所有字段
 	
-	protected String []deriveNames;//deriveӵ
+	protected String []deriveNames;//由derive添加的
 	protected Expression []deriveExps;
 	
 	public void addColName(String name) {
@@ -71,7 +71,7 @@ public class Pseudo extends IPseudo {
 			boolean isBFile = pd.isBFile();
 			if (!isBFile && op instanceof Select && op.getFunction() != null) {
 				Expression exp = ((Select)op).getFilterExpression();
-				boolean flag = true;//trueʾǱֶΡ newsnewderive
+				boolean flag = true;//true表示都是本表的字段。 用于news、new、derive
 				for (String name : tempList) {
 					if (!isColumn(name)) {
 						flag = false;
@@ -96,15 +96,15 @@ public class Pseudo extends IPseudo {
 				}
 				
 			} else if (!isBFile && op instanceof Switch && ((Switch) op).isIsect()) {
-				//switch@iתΪF:K
-				//תֶΡֶδcodecodeû
+				//把switch@i转换为F:K
+				//转换条件：单字段、连接字段存在且是主键、code存在主键、code没有索引表
 				String names[] = ((Switch) op).getFkNames();
 				Sequence codes[] = ((Switch) op).getCodes();
 				
-				//Ƿ
+				//检查是否有索引或主键
 				boolean flag = true;
 				while (true) {
-					if (1 != names.length) break;//ǵֶ
+					if (1 != names.length) break;//不是单字段
 					String keyName;
 					if (((Switch) op).getExps()[0] == null) {
 						keyName = codes[0].dataStruct().getPrimary()[0];
@@ -116,16 +116,16 @@ public class Pseudo extends IPseudo {
 					if (obj instanceof BaseRecord) {
 						DataStruct ds = ((BaseRecord)obj).dataStruct();
 						if (-1 == ds.getFieldIndex(keyName)) {
-							//codeﲻڸֶ
+							//code里不存在该字段
 							MessageManager mm = EngineMessage.get();
 							throw new RQException(keyName + mm.getMessage("ds.fieldNotExist"));
 						}
 						int []fields = ds.getPKIndex();
 						if (fields == null) {
-							break;//
+							break;//主键不存在
 						} else {
 							if (! ds.getPrimary()[0].equals(keyName)) {
-								break;//ֶβcode
+								break;//该字段不是code的主键
 							}
 						}
 					} else {
@@ -135,7 +135,7 @@ public class Pseudo extends IPseudo {
 					
 					IndexTable it = codes[0].getIndexTable();
 					if (it != null) {
-						break;//Ҳ޷ת
+						break;//有索引表了也无法转换
 					}
 					
 					flag = false;
@@ -155,7 +155,7 @@ public class Pseudo extends IPseudo {
 				}
 				
 				if (flag) {
-					//ȡΪF:T
+					//不能提取为F:T
 					for (String name : tempList) {
 						addColName(name);
 					}
@@ -171,12 +171,12 @@ public class Pseudo extends IPseudo {
 		this.ctx = ctx;
 	}
 	
-	//newsnewderive
+	//用于news、new、derive
 	protected void setFetchInfo(ICursor cursor, Expression []exps, String []names) {
 		if (this.exps != null) return;
 		
 		if (exps == null && extraNameList.size() == 0) {
-			//ûָȡֶΣ֯
+			//如果没有指定取出字段，则智能组织
 			names = cursor.getDataStruct().getFieldNames();
 			for (String name : names) {
 				if (!extraNameList.contains(name)) {
@@ -194,9 +194,9 @@ public class Pseudo extends IPseudo {
 			this.exps = exps;
 			this.names = names;
 		} else {
-			//ָȡֶΣҲҪѶõֶμ
-			//extraNameListǷexpsֶ
-			//Уȥ
+			//如果指定了取出字段，也要把额外用到的字段加上
+			//检查extraNameList里是否包含exps里的字段
+			//如果有，就去掉
 			ArrayList<String> tempList = new ArrayList<String>();
 			for (String name : extraNameList) {
 				if (!tempList.contains(name)) {
@@ -241,7 +241,7 @@ public class Pseudo extends IPseudo {
 			tempNameList.toArray(this.names);
 		}
 		
-//		//deriveexpsnames
+//		//如果有derive出来的exps、names
 //		if (deriveExps != null) {
 //			int oldSize = this.exps.length;
 //			int newSize = deriveExps.length + oldSize;
@@ -357,7 +357,7 @@ public class Pseudo extends IPseudo {
 		return cache;
 	}
 	
-	// жǷָƵ
+	// 判断是否配置了指定名称的外键
 	public boolean hasForeignKey(String fkName) {
 		PseudoColumn column = pd.findColumnByName(fkName);
 		if (column != null && column.getDim() != null)
@@ -366,12 +366,12 @@ public class Pseudo extends IPseudo {
 			return false;
 	}
 	
-	// ȡ
+	// 取虚表主键
 	public String[] getPrimaryKey() {
 		return getPd().getAllSortedColNames();
 	}
 	
-	//ֶά
+	//根据字段名找维列
 	public PseudoColumn getFieldSwitchColumnByName(String fieldName) {
 		List<PseudoColumn> columns = pd.getColumns();
 		if (columns == null) {
@@ -388,7 +388,7 @@ public class Pseudo extends IPseudo {
 		return null;
 	}
 	
-	// ȡֶָColumn
+	// 取字段指向的Column
 	public PseudoColumn getFieldSwitchColumn(String fieldName) {
 		List<PseudoColumn> columns = pd.getColumns();
 		if (columns == null) {
@@ -436,7 +436,7 @@ public class Pseudo extends IPseudo {
 			return list;
 	}
 	
-	// ȡֶswitchָû򷵻ؿ
+	// 取字段做switch指向的虚表，如果没做则返回空
 	public Pseudo getFieldSwitchTable(String fieldName) {
 		List<PseudoColumn> columns = pd.getColumns();
 		if (columns == null) {
@@ -459,11 +459,11 @@ public class Pseudo extends IPseudo {
 	}
 	
 	/**
-	 * 
-	 * @param fkName	
-	 * @param fieldNames ֶ
-	 * @param code	
-	 * @param clone һ
+	 * 添加外键
+	 * @param fkName	外键名
+	 * @param fieldNames 外键字段
+	 * @param code	外表
+	 * @param clone 返回一个新虚表
 	 * @return
 	 */
 	public Pseudo addForeignKeys(String fkName, String []fieldNames, Object code, String[] codeKeys, boolean clone) {
@@ -483,7 +483,7 @@ public class Pseudo extends IPseudo {
 	}
 
 	/**
-	 * жǷ
+	 * 判断是否存在这个外键
 	 * @param fkName
 	 * @param fieldNames
 	 * @param code
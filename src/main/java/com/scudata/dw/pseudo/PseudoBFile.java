@@ -12,7 +12,7 @@ import com.scudata.dm.op.Operation;
 import com.scudata.expression.Expression;
 
 /**
- * ļ
+ * 集文件虚表类
  * @author LW
  *
  */
@@ -21,10 +21,10 @@ public class PseudoBFile extends PseudoTable {
 	}
 	
 	/**
-	 * 
-	 * @param rec ¼
-	 * @param hs ֻ
-	 * @param n 
+	 * 产生虚表对象
+	 * @param rec 定义记录
+	 * @param hs 分机序列
+	 * @param n 并行数
 	 * @param ctx
 	 */
 	public PseudoBFile(BaseRecord rec, int n, Context ctx) {
@@ -49,7 +49,7 @@ public class PseudoBFile extends PseudoTable {
 	}
 
 	/**
-	 * õÿʵα깹ɵ
+	 * 得到虚表的每个实体表的游标构成的数组
 	 * @return
 	 */
 	public ICursor[] getCursors() {
@@ -57,9 +57,9 @@ public class PseudoBFile extends PseudoTable {
 	}
 	
 	/**
-	 * ȡֶ
-	 * @param exps ȡʽ
-	 * @param fields ȡ
+	 * 设置取出字段
+	 * @param exps 取出表达式
+	 * @param fields 取出别名
 	 */
 //	protected void setFetchInfo_(Expression []exps, String []fields) {
 //		this.exps = null;
@@ -81,11 +81,11 @@ public class PseudoBFile extends PseudoTable {
 //			}
 //		}
 //		
-//		newExps = exps.clone();//һ
+//		newExps = exps.clone();//备份一下
 //		
 //		/**
-//		 * ȡʽҲȡֶ,extraNameListǷexpsֶ
-//		 * ȥ
+//		 * 有取出表达式也有取出字段,则检查extraNameList里是否包含exps里的字段
+//		 * 如果包含就去掉
 //		 */
 //		ArrayList<String> tempList = new ArrayList<String>();
 //		for (String name : extraNameList) {
@@ -111,13 +111,13 @@ public class PseudoBFile extends PseudoTable {
 //				String expName = exp.getIdentifierName();
 //				if (!allNameList.contains(expName)) {
 //					/**
-//					 * αֶת
+//					 * 如果是伪字段则做转换
 //					 */
 //					PseudoColumn col = pd.findColumnByPseudoName(expName);
 //					if (col != null) {
 //						if (col.get_enum() != null) {
 //							/**
-//							 * öֶת
+//							 * 枚举字段做转换
 //							 */
 //							String var = "pseudo_enum_value_" + i;
 //							ctx.setParamValue(var, col.get_enum());
@@ -128,7 +128,7 @@ public class PseudoBFile extends PseudoTable {
 //							tempNameList.add(name);
 //						} else if (col.getBits() != null) {
 //							/**
-//							 * ֵֶת
+//							 * 二值字段做转换
 //							 */
 //							name = col.getName();
 //							String pname = ((UnknownSymbol) node).getName();
@@ -136,7 +136,7 @@ public class PseudoBFile extends PseudoTable {
 //							seq = col.getBits();
 //							int idx = seq.firstIndexOf(pname) - 1;
 //							int bit = 1 << idx;
-//							String str = "and(" + col.getName() + "," + bit + ")!=0";//Ϊֶελ
+//							String str = "and(" + col.getName() + "," + bit + ")!=0";//改为真字段的位运算
 //							newExps[i] = new Expression(str);
 //							exp = new Expression(name);
 //							needNew = true;
@@ -172,12 +172,12 @@ public class PseudoBFile extends PseudoTable {
 		return cursor(exps, names, false);
 	}
 	
-	//α
+	//返回虚表的游标
 	public ICursor cursor(Expression []exps, String []names, boolean isColumn) {
 		ICursor cursor = null;
-		setFetchInfo(exps, names);//ȡֶӽȥܻextraOpListֵ
+		setFetchInfo(exps, names);//把取出字段添加进去，里面可能会对extraOpList赋值
 		
-		if (pathCount > 1) {//ָ˲
+		if (pathCount > 1) {//指定了并行数
 			int count = pathCount;
 			ICursor cursors[] = new ICursor[count];
 			for (int i = 0; i < count; ++i) {
@@ -248,8 +248,8 @@ public class PseudoBFile extends PseudoTable {
 	}
 	
 	/**
-	 * Ӧÿе
-	 * ע⣺صԵһ¼Ϊ׼
+	 * 获得虚表对应的组表的每列的数据类型
+	 * 注意：返回的类型是以第一条记录为准
 	 * @return
 	 */
 	public byte[] getFieldTypes() {
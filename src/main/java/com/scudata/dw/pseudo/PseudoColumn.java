@@ -14,16 +14,16 @@ public class PseudoColumn {
 	public static final String PD_FKEY = "fkey";
 	public static final String PD_TIME = "tkey";
 	
-	private String name;//ֶε
-	private String exp;//ֶεıʽ
-	private String type;//
-	private String pseudo;//αֶ
-	private Sequence _enum;//αֶζӦöб
-	private Sequence bits;//ֵάαֶ
-	private Object dim;//ָά
-	private String fkey[];//ֶ
-	private String tkey;//ʱֶ
-	private String[] dimKey;//άkeyֶ
+	private String name;//真字段的名称
+	private String exp;//真字段的表达式
+	private String type;//数据类型
+	private String pseudo;//伪字段
+	private Sequence _enum;//伪字段对应的枚举列表
+	private Sequence bits;//二值维度伪字段名
+	private Object dim;//指向的维表
+	private String fkey[];//外键字段
+	private String tkey;//时间字段
+	private String[] dimKey;//维表key字段
 	
 	public PseudoColumn() {
 		
@@ -130,7 +130,7 @@ public class PseudoColumn {
 		}
 		
 		/**
-		 * άpseudojoinĽ
+		 * 维的pseudo是join计算的结果名称
 		 */
 		if (dim != null && pseudo == null) {
 			if (name != null) {
@@ -24,7 +24,7 @@ import com.scudata.dw.PhyTableGroup;
 import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
-//ڶ
+//用于定义虚表的属性
 public class PseudoDefination implements Cloneable, ICloneable {
 	public static final String PD_FILE = "file";
 	public static final String PD_ZONE = "zone";
@@ -34,23 +34,23 @@ public class PseudoDefination implements Cloneable, ICloneable {
 	public static final String PD_VAR = "var";
 	public static final String PD_UPDATE = "update";
 	
-	private Object file;//ļļ
-	private Sequence zone;//б
-	private String date;//ֶ
-	private String user;//ʻֶ
-	private String var;///ڱ/Ⱥڱ
-	private List<PseudoColumn> columns;//ֶζ
+	private Object file;//文件名或多个文件名的序列
+	private Sequence zone;//组表分区号列表
+	private String date;//分列字段
+	private String user;//帐户字段
+	private String var;//序表/内表/集群内表变量名
+	private List<PseudoColumn> columns;//部分特殊字段定义
 	
-	private List<IPhyTable> tables;//ļtable
-	private PhyTableGroup tableGroup;//ļ
-	private List<Object> maxValues;//ÿtableֵ
-	private List<Object> minValues;//ÿtableСֵ
-	private Sequence memoryTable;//ڴ
+	private List<IPhyTable> tables;//存所有文件的table对象
+	private PhyTableGroup tableGroup;//组文件表对象
+	private List<Object> maxValues;//存每个table的最大值
+	private List<Object> minValues;//存每个table的最小值
+	private Sequence memoryTable;//内存虚表的序表对象
 	
-	private FileObject fileObject;//ļ
-	private DataStruct ds;//ļṹ
+	private FileObject fileObject;//集文件对象
+	private DataStruct ds;//集文件结构
 	private boolean isBFile = false;
-	private String[] sortedFields;//ֶ
+	private String[] sortedFields;//排序字段
 	private Expression updateExp;
 	
 	public PseudoDefination() {
@@ -85,7 +85,7 @@ public class PseudoDefination implements Cloneable, ICloneable {
 			sortedFields = getAllSortedColNames();
 		}
 		
-		//datemaxmin
+		//如果存在date，则计算max、min
 		if (date != null) {
 			
 		}
@@ -204,8 +204,8 @@ public class PseudoDefination implements Cloneable, ICloneable {
 	}
 	
 	/**
-	 * ֶα
-	 * @param pname ֶ
+	 * 根据字段名查找伪列
+	 * @param pname 字段名
 	 * @return
 	 */
 	public PseudoColumn findColumnByName(String name) {
@@ -222,8 +222,8 @@ public class PseudoDefination implements Cloneable, ICloneable {
 	}
 	
 	/**
-	 * αֶα
-	 * @param pname αֶҲǶֵbitsֶ
+	 * 根据伪字段名查找伪列
+	 * @param pname 伪字段名，也可能是二值bits里面的字段名
 	 * @return
 	 */
 	public PseudoColumn findColumnByPseudoName(String pname) {
@@ -249,7 +249,7 @@ public class PseudoDefination implements Cloneable, ICloneable {
 	}
 
 	/**
-	 * õļfn
+	 * 得到文件fn的组表对象
 	 * @param fn
 	 * @param partitions
 	 * @param ctx
@@ -279,7 +279,7 @@ public class PseudoDefination implements Cloneable, ICloneable {
 	}
 	
 	/**
-	 * õļļ
+	 * 得到文件或文件组的组表对象
 	 * @param ctx
 	 */
 	private void parseFileToTable(Context ctx) {
@@ -302,7 +302,7 @@ public class PseudoDefination implements Cloneable, ICloneable {
 		
 		if (date != null) {
 			String dateName = date;
-			//αֶ
+			//不允许这里是伪字段
 //			PseudoColumn dateCol = findColumnByPseudoName(date);
 //			if (dateCol != null && dateCol.getExp() != null) {
 //				dateName = dateCol.getName();
@@ -324,7 +324,7 @@ public class PseudoDefination implements Cloneable, ICloneable {
 	}
 
 	/**
-	 * ļ󡣲ھͷnull
+	 * 返回组文件表对象。不存在就返回null
 	 * @return
 	 */
 	public PhyTableGroup getTableMetaDataGroup() {
@@ -385,7 +385,7 @@ public class PseudoDefination implements Cloneable, ICloneable {
 	}
 	
 	/**
-	 * жfieldsǷֶ
+	 * 判断fields是否是虚表的有序字段
 	 * @param fields
 	 * @return
 	 */
@@ -411,7 +411,7 @@ public class PseudoDefination implements Cloneable, ICloneable {
 	}
 	
 	/**
-	 * ǷǼļ
+	 * 检查是否是集文件
 	 * @return
 	 */
 	private boolean checkBFile(Context ctx) {
@@ -16,7 +16,7 @@ import com.scudata.expression.mfn.dw.Derive;
 import com.scudata.parallel.ClusterPhyTable;
 
 public class PseudoDerive extends Pseudo {
-	private Object ptable;//cs/AҲһ
+	private Object ptable;//参数cs/A，也可能是一个虚表
 	private String option;
 	private String[] csNames;
 	
@@ -90,7 +90,7 @@ public class PseudoDerive extends Pseudo {
 	}
 
 	/**
-	 * õtable.derive(cursor)α
+	 * 得到table.derive(cursor)的游标
 	 * @param table
 	 * @param cursor
 	 * @param fkNames
@@ -116,10 +116,10 @@ public class PseudoDerive extends Pseudo {
 	}
 	
 	/**
-	 * T.derive(cs)α
+	 * 返回T.derive(cs)的游标
 	 */
 	public ICursor cursor(Expression[] exps, String[] names) {
-		//ȡctx
+		//取得ctx
 		if (ctx == null) {
 			if (ptable instanceof IPseudo) {
 				ctx = ((IPseudo)ptable).getContext();
@@ -128,18 +128,18 @@ public class PseudoDerive extends Pseudo {
 			}
 		}
 		
-		//ѿܵȡֶӵT
+		//把可能的取出字段添加到虚表T里
 		if (exps != null) {
 			for (Expression exp : exps) {
 				addColName(exp.getIdentifierName());
 			}
 		}
 		
-		//õTʵ
+		//得到虚表T的实体表
 		List<IPhyTable> tables = getPd().getTables();
 		int tsize = tables.size();
 		
-		//ptableõcsܶӦ
+		//根据ptable得到cs（可能对应多个）
 		ICursor cursors[] = new ICursor[tsize];
 		if (ptable instanceof PseudoTable) {
 			cursors = ((PseudoTable)ptable).getCursors(false);
@@ -149,12 +149,12 @@ public class PseudoDerive extends Pseudo {
 			cursors[0] = new MemoryCursor((Sequence) ptable);
 		}
 		
-		//ȡֶ
+		//设置取出字段
 		setFetchInfo(cursors[0], exps, names);
 		exps = this.exps;
 		names = this.names;
 		
-		//֯F:K
+		//组织F:K参数
 		String []fkNames = null;
 		Sequence []codes = null;
 		String []opts = null;
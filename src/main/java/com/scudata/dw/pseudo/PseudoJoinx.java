@@ -16,7 +16,7 @@ public class PseudoJoinx extends Pseudo {
 	private Expression [][]joinExps;
 	private String []joinNames;
 	private String option;
-	//αҪĲ
+	//创建游标需要的参数
 	private Context ctx;
 	private ArrayList<Operation> opList;
 	
@@ -76,9 +76,9 @@ public class PseudoJoinx extends Pseudo {
 		}
 	}
 	
-	//exps ȡֶαʽ
-	//namess ȡֶ
-	//TODO joinxõexpsnamesʲôأ
+	//exps 取出字段表达式
+	//namess 取出字段新名字
+	//TODO 对于joinx得到的虚表，exps，names是什么含义呢？
 	public ICursor cursor(Expression []exps, String []names) {
 		if (ctx == null) {
 			ctx = joinxTables[0].getContext();
@@ -13,7 +13,7 @@ import com.scudata.expression.Expression;
 import com.scudata.util.CursorUtil;
 
 /**
- * ڴڴ
+ * 内存虚表；从内存变量产生虚表
  * @author LW
  *
  */
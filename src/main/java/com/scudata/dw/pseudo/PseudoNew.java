@@ -16,14 +16,14 @@ import com.scudata.expression.mfn.dw.New;
 import com.scudata.parallel.ClusterPhyTable;
 
 public class PseudoNew extends Pseudo {
-	private Object ptable;//cs/AҲһ
+	private Object ptable;//参数cs/A，也可能是一个虚表
 	String option;
 	private String[] csNames;
 	
 	/**
-	 * ݶpdһPseudoNew
-	 * @param pd 
-	 * @param ptable newĲСα
+	 * 根据定义pd构造一个PseudoNew对象
+	 * @param pd 定义
+	 * @param ptable new的参数，可能是虚表、序列、游标
 	 * @param option
 	 */
 	public PseudoNew(PseudoDefination pd, Object ptable, String option) {
@@ -96,7 +96,7 @@ public class PseudoNew extends Pseudo {
 	}
 
 	/**
-	 * õtable.new(cursor)α
+	 * 得到table.new(cursor)的游标
 	 * @param table
 	 * @param cursor
 	 * @param fkNames
@@ -122,10 +122,10 @@ public class PseudoNew extends Pseudo {
 	}
 	
 	/**
-	 * T.new(cs)α
+	 * 返回T.new(cs)的游标
 	 */
 	public ICursor cursor(Expression[] exps, String[] names) {
-		//ȡctx
+		//取得ctx
 		if (ctx == null) {
 			if (ptable instanceof IPseudo) {
 				ctx = ((IPseudo)ptable).getContext();
@@ -134,18 +134,18 @@ public class PseudoNew extends Pseudo {
 			}
 		}
 		
-		//ѿܵȡֶӵT
+		//把可能的取出字段添加到虚表T里
 		if (exps != null) {
 			for (Expression exp : exps) {
 				addColName(exp.getIdentifierName());
 			}
 		}
 		
-		//õTʵ
+		//得到虚表T的实体表
 		List<IPhyTable> tables = getPd().getTables();
 		int tsize = tables.size();
 		
-		//ptableõcsܶӦ
+		//根据ptable得到cs（可能对应多个）
 		ICursor cursors[] = new ICursor[tsize];
 		if (ptable instanceof PseudoBFile) {
 			cursors = ((PseudoBFile)ptable).getCursors();
@@ -157,12 +157,12 @@ public class PseudoNew extends Pseudo {
 			cursors[0] = new MemoryCursor((Sequence) ptable);
 		}
 		
-		//ȡֶ
+		//设置取出字段
 		setFetchInfo(cursors[0], exps, names);
 		exps = this.exps;
 		names = this.names;
 		
-		//֯F:K
+		//组织F:K参数
 		String []fkNames = null;
 		Sequence []codes = null;
 		String []opts = null;
@@ -17,7 +17,7 @@ import com.scudata.parallel.ClusterPhyTable;
 
 //T.news(cs,...)
 public class PseudoNews extends Pseudo {
-	private Object ptable;//cs/AҲһ
+	private Object ptable;//参数cs/A，也可能是一个虚表
 	private String option;
 	private String[] csNames;
 	
@@ -91,7 +91,7 @@ public class PseudoNews extends Pseudo {
 	}
 
 	/**
-	 * õtable.news(cursor)α
+	 * 得到table.news(cursor)的游标
 	 * @param table
 	 * @param cursor
 	 * @param fkNames
@@ -117,10 +117,10 @@ public class PseudoNews extends Pseudo {
 	}
 	
 	/**
-	 * T.news(cs)α
+	 * 返回T.news(cs)的游标
 	 */
 	public ICursor cursor(Expression[] exps, String[] names) {
-		//ȡctx
+		//取得ctx
 		if (ctx == null) {
 			if (ptable instanceof IPseudo) {
 				ctx = ((IPseudo)ptable).getContext();
@@ -129,18 +129,18 @@ public class PseudoNews extends Pseudo {
 			}
 		}
 		
-		//ѿܵȡֶӵT
+		//把可能的取出字段添加到虚表T里
 		if (exps != null) {
 			for (Expression exp : exps) {
 				addColName(exp.getIdentifierName());
 			}
 		}
 		
-		//õTʵ
+		//得到虚表T的实体表
 		List<IPhyTable> tables = getPd().getTables();
 		int tsize = tables.size();
 		
-		//ptableõcsܶӦ
+		//根据ptable得到cs（可能对应多个）
 		ICursor cursors[] = new ICursor[tsize];
 		if (ptable instanceof PseudoBFile) {
 			cursors = ((PseudoBFile)ptable).getCursors();
@@ -152,12 +152,12 @@ public class PseudoNews extends Pseudo {
 			cursors[0] = new MemoryCursor((Sequence) ptable);
 		}
 		
-		//ȡֶ
+		//设置取出字段
 		setFetchInfo(cursors[0], exps, names);
 		exps = this.exps;
 		names = this.names;
 		
-		//֯F:K
+		//组织F:K参数
 		String []fkNames = null;
 		Sequence []codes = null;
 		String []opts = null;
@@ -45,25 +45,25 @@ import com.scudata.expression.operator.NotEquals;
 import com.scudata.expression.operator.Or;
 
 public class PseudoTable extends Pseudo {
-	//αҪĲ
+	//创建游标需要的参数
 	protected String []fkNames;
 	protected Sequence []codes;
 	protected int pathCount;
 	
-	protected ArrayList<Operation> extraOpList = new ArrayList<Operation>();//ӳټ㣨selectӣ
-	protected ArrayList<PseudoColumn> joinColumnList = new ArrayList<PseudoColumn>();//
+	protected ArrayList<Operation> extraOpList = new ArrayList<Operation>();//其它情况产生的延迟计算（不是主动调用select添加）
+	protected ArrayList<PseudoColumn> joinColumnList = new ArrayList<PseudoColumn>();//外键计算列
 	protected PseudoTable mcsTable;
 	
-	protected boolean hasPseudoColumns = false;//ǷҪαֶתö١ֵʽ
+	protected boolean hasPseudoColumns = false;//是否需要根据伪字段转换（枚举、二值）表达式
 	
 	public PseudoTable() {
 	}
 	
 	/**
-	 * 
-	 * @param rec ¼
-	 * @param hs ֻ
-	 * @param n 
+	 * 产生虚表对象
+	 * @param rec 定义记录
+	 * @param hs 分机序列
+	 * @param n 并行数
 	 * @param ctx
 	 */
 	public PseudoTable(BaseRecord rec, int n, Context ctx) {
@@ -107,7 +107,7 @@ public class PseudoTable extends Pseudo {
 			if (getPd().getColumns() != null) {
 				List<PseudoColumn> columns = getPd().getColumns();
 				for (PseudoColumn column : columns) {
-					//öαֶκͶֵαֶΣҪ¼ڽĴлõ
+					//如果存在枚举伪字段和二值伪字段，要记录下来，在接下来的处理中会用到
 					if (column.getPseudo() != null) {
 						hasPseudoColumns = true;
 					}
@@ -152,9 +152,9 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * ȡֶ
-	 * @param exps ȡʽ
-	 * @param fields ȡ
+	 * 设置取出字段
+	 * @param exps 取出表达式
+	 * @param fields 取出别名
 	 */
 	protected void setFetchInfo(Expression []exps, String []fields) {
 		this.exps = null;
@@ -187,11 +187,11 @@ public class PseudoTable extends Pseudo {
 			}
 		}
 		
-		newExps = exps.clone();//һ
+		newExps = exps.clone();//备份一下
 		
 		/**
-		 * ȡʽҲȡֶ,extraNameListǷexpsֶ
-		 * ȥ
+		 * 有取出表达式也有取出字段,则检查extraNameList里是否包含exps里的字段
+		 * 如果包含就去掉
 		 */
 		ArrayList<String> tempList = new ArrayList<String>();
 		for (String name : extraNameList) {
@@ -218,7 +218,7 @@ public class PseudoTable extends Pseudo {
 				String expName = exp.getIdentifierName();
 				if (!allNameList.contains(expName)) {
 					/**
-					 * αֶת
+					 * 如果是伪字段则做转换
 					 */
 					PseudoColumn col = pd.findColumnByPseudoName(expName);
 					if (col != null) {
@@ -239,7 +239,7 @@ public class PseudoTable extends Pseudo {
 							}
 							joinColumnList.add(col);
 						} else if (col.getExp() != null) {
-							//бʽα
+							//有表达式的伪列
 							newExps[i] = new Expression(col.getExp());
 							needNew = true;
 							
@@ -254,7 +254,7 @@ public class PseudoTable extends Pseudo {
 							
 						} else if (col.get_enum() != null) {
 							/**
-							 * öֶת
+							 * 枚举字段做转换
 							 */
 							String var = "pseudo_enum_value_" + i;
 							ctx.setParamValue(var, col.get_enum());
@@ -268,7 +268,7 @@ public class PseudoTable extends Pseudo {
 							}
 						} else if (col.getBits() != null) {
 							/**
-							 * ֵֶת
+							 * 二值字段做转换
 							 */
 							name = col.getName();
 							String pname = ((UnknownSymbol) node).getName();
@@ -276,7 +276,7 @@ public class PseudoTable extends Pseudo {
 							seq = col.getBits();
 							int idx = seq.firstIndexOf(pname) - 1;
 							int bit = 1 << idx;
-							String str = "and(" + col.getName() + "," + bit + ")!=0";//Ϊֶελ
+							String str = "and(" + col.getName() + "," + bit + ")!=0";//改为真字段的位运算
 							newExps[i] = new Expression(str);
 							exp = new Expression(name);
 							needNew = true;
@@ -303,7 +303,7 @@ public class PseudoTable extends Pseudo {
 			}
 		}
 
-		//dateȡֶugrp
+		//如果存在date则必须取出首字段ugrp
 		String date = pd.getDate();
 		String ugrp = pd.getUgrp();
 		if (date != null && !tempNameList.contains(ugrp)) {
@@ -353,7 +353,7 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * õÿʵα깹ɵ
+	 * 得到虚表的每个实体表的游标构成的数组
 	 * @return
 	 */
 	public ICursor[] getCursors(boolean isColumn) {
@@ -368,7 +368,7 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * ӿõ
+	 * 添加可能用到的外键连接
 	 */
 	protected void addJoin(ICursor cursor) {
 		List<PseudoColumn> list = getFieldSwitchColumns(this.names);
@@ -381,7 +381,7 @@ public class PseudoTable extends Pseudo {
 		}
 		if (getPd() != null && list != null) {
 			for (PseudoColumn column : list) {
-				if (column.getDim() != null) {//һswitchӳټ
+				if (column.getDim() != null) {//如果存在外键，则添加一个switch的延迟计算
 					Sequence dim;
 					if (column.getDim() instanceof Sequence) {
 						dim = (Sequence) column.getDim();
@@ -393,7 +393,7 @@ public class PseudoTable extends Pseudo {
 					String fkey[] = column.getFkey();
 					if (fkey == null) {
 						/**
-						 * ʱnameֶ
+						 * 此时name就是外键字段
 						 */
 						String[] fkNames = new String[] {column.getName()};
 						String[] timeFkNames =hasTimeKey ? new String[] {column.getTkey()} : null;
@@ -411,7 +411,7 @@ public class PseudoTable extends Pseudo {
 						int size = fkey.length;
 						
 						/**
-						 * ʱֶ,Ͱʱֶƴӵfkeyĩβ
+						 * 如果定义了时间字段,就把时间字段拼接到fkey末尾
 						 */
 						if (hasTimeKey) {
 							size++;
@@ -456,11 +456,11 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * õtableα
+	 * 得到table的游标
 	 * @param table
 	 * @param mcs
-	 * @param addOpt ǷѸӼ
-	 * @param isColumn Ƿ񷵻ʽα
+	 * @param addOpt 是否把附加计算添加
+	 * @param isColumn 是否返回列式游标
 	 * @return
 	 */
 	private ICursor getCursor(IPhyTable table, ICursor mcs, boolean addOpt, boolean isColumn) {
@@ -537,7 +537,7 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * user صαʱʹã
+	 * 按user排序 （返回单个游标时使用）
 	 * @param cursors
 	 * @param pd
 	 * @param ctx
@@ -559,7 +559,7 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * 鲢α
+	 * 归并或者连接游标
 	 * @param cursors
 	 * @return
 	 */
@@ -577,13 +577,13 @@ public class PseudoTable extends Pseudo {
 		
 		ICursor cs = new MergeCursor(cursors, new int[] {index}, null, ctx);
 		
-		//userڻugrp
+		//如果user不存在或等于ugrp
 		String user = pd.getUser();
 		if (user == null || user.equals(ugrp) || ds.getFieldIndex(user) == -1) {
 			return cs;
 		}
 		
-		//userֶΣڹ鲢ֵֶͬڵݰuser
+		//user不是首字段，在归并后同值首字段内的数据按user排序
 		return new GroupSortCursor(cs, ugrp, user, ctx);
 	}
 	
@@ -592,8 +592,8 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * user˻ԣgroup(ֶ).conj(~.group(user)),
-	 * userʹֶι鲢
+	 * 如果存在user（账户属性）则group(首字段).conj(~.group(user)),
+	 * 如果不存在user，则使用首字段归并。
 	 */
 	static void groupByUser(ICursor cursor, String user, String ugrp, Context ctx) {
 		if (user != null && ugrp != null && user.equals(ugrp)) {
@@ -627,7 +627,7 @@ public class PseudoTable extends Pseudo {
 			}
 			IPhyTable table = tables.get(0);
 			
-			//жǷйdateĹ
+			//判断是否有关于date的过滤
 			Object obj;
 			if (table instanceof ColPhyTable)
 				obj = Cursor.parseFilter((ColPhyTable) table, filter, ctx);
@@ -686,22 +686,22 @@ public class PseudoTable extends Pseudo {
 		return cursor(exps, names, false);
 	}
 	
-	//α
+	//返回虚表的游标
 	public ICursor cursor(Expression []exps, String []names, boolean isColumn) {
-		setFetchInfo(exps, names);//ȡֶӽȥܻextraOpListֵ
+		setFetchInfo(exps, names);//把取出字段添加进去，里面可能会对extraOpList赋值
 		
-		//ÿʵļһα
+		//每个实体文件生成一个游标
 		List<IPhyTable> tables = getPd().getTables();
 		int size = tables.size();
 		ICursor cursors[] = new ICursor[size];
 		
 		/**
-		 * Եõαй鲢Ϊ
-		 * 1 ֻһα򷵻أ
-		 * 2 жαҲʱй鲢
-		 * 3 жαҲʱȶԵһαֶΣȻα갴һֶͬΣÿαÿνй鲢
+		 * 对得到游标进行归并，分为情况
+		 * 1 只有一个游标则返回；
+		 * 2 有多个游标且不并行时，进行归并
+		 * 3 有多个游标且并行时，先对第一个游标分段，然后其它游标按第一个同步分段，最后把每个游标的每个段进行归并
 		 */
-		if (pathCount == 1 && size == 1) {//ֻһαֱӷ
+		if (pathCount == 1 && size == 1) {//只有一个游标直接返回
 			ICursor cs = getCursor(tables.get(0), null, false, isColumn);
 			cs = sortCursor(cs, pd, ctx);
 			return addOptionToCursor(cs);
@@ -712,18 +712,18 @@ public class PseudoTable extends Pseudo {
 				return new MemoryCursor(null);
 			}
 			
-			if (pathCount > 1) {//ָ˲ʱmcsTable
+			if (pathCount > 1) {//指定了并行数，此时忽略mcsTable
 				cursors[0] = getCursor(tables.get(0), null, false, isColumn);
 				for (int i = 1; i < size; i++) {
 					cursors[i] = getCursor(tables.get(i), cursors[0], false, isColumn);
 				}
-			} else {//ûָ
-				if (mcsTable == null) {//ûֶָβοmcsTable
+			} else {//没有指定并行数
+				if (mcsTable == null) {//没有指定分段参考虚表mcsTable
 					for (int i = 0; i < size; i++) {
 						cursors[i] = getCursor(tables.get(i), null, false, isColumn);
 					}
 					return addOptionToCursor(mergeCursor(cursors, pd, ctx));
-				} else {//ָ˷ֶβοmcsTable
+				} else {//指定了分段参考虚表mcsTable
 					ICursor mcs = mcsTable.cursor();
 					for (int i = 0; i < size; i++) {
 						cursors[i] = getCursor(tables.get(i), mcs, false, isColumn);
@@ -732,9 +732,9 @@ public class PseudoTable extends Pseudo {
 				}
 			}
 			
-			//cursorsι鲢:αĵN·鲢,õNα,ٰNαɶ·α귵
-			int mcount = ((MultipathCursors)cursors[0]).getPathCount();//ֶ
-			ICursor mcursors[] = new ICursor[mcount];//α
+			//对cursors按段归并或连接:把所有游标的第N路归并,得到N个游标,再把这N个游标做成多路游标返回
+			int mcount = ((MultipathCursors)cursors[0]).getPathCount();//分段数
+			ICursor mcursors[] = new ICursor[mcount];//结果游标
 			for (int m = 0; m < mcount; m++) {
 				if (size == 1) {
 					mcursors[m] = sortCursor(((MultipathCursors)cursors[0]).getCursors()[m], pd, ctx);
@@ -750,7 +750,7 @@ public class PseudoTable extends Pseudo {
 		}
 	}
 	
-	//ڻȡ·α
+	//用于获取多路游标
 	private ICursor cursor() {
 		List<IPhyTable> tables = getPd().getTables();
 		return tables.get(0).cursor(null, null, null, null, null, null, pathCount, ctx);
@@ -791,8 +791,8 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * תֵαֶνڵΪֶ
-	 * תͨαֶνڵΪֶ
+	 * 转换二值伪字段节点为真字段
+	 * 转换普通伪字段节点为真字段
 	 * @param node
 	 * @return
 	 */
@@ -806,27 +806,27 @@ public class PseudoTable extends Pseudo {
 		
 		if (col.getBits() != null) {
 			/**
-			 * һUnknownSymbolĶֵڵתΪһBooleanڵ
+			 * 把一个UnknownSymbol的二值节点转换为一个Boolean节点
 			 */
 			Sequence seq;
 			seq = col.getBits();
 			int idx = seq.firstIndexOf(pname) - 1;
 			int bit = 1 << idx;
-			String str = "and(" + col.getName() + "," + bit + ")!=0";//Ϊֶελ
+			String str = "and(" + col.getName() + "," + bit + ")!=0";//改为真字段的位运算
 			return new Expression(str).getHome();
 		} else if (col.get_enum() != null) {
-			return null;//öٵĲﴦ
+			return null;//枚举的不在这里处理
 		} else if (col.getExp() != null) {
 			return new Expression(col.getExp()).getHome();
 		} else if (col.getFkey() != null) {
-			return null;//new UnknownSymbol(col.getFkey()[0]);//Fkeyʱ Fkey[0]ֶ
+			return null;//new UnknownSymbol(col.getFkey()[0]);//有Fkey时 Fkey[0]是真字段
 		} else {
-			return new UnknownSymbol(col.getName());//ͨαֶ
+			return new UnknownSymbol(col.getName());//处理普通伪字段
 		}
 	}
 	
 	/**
-	 * ֵαֶ
+	 * 处理二值伪字段
 	 */
 	private void replaceFilter(Node node) {
 		if (node == null) {
@@ -853,43 +853,43 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * ѱʽ漰αֶεöת
+	 * 把表达式里涉及伪字段的枚举运算进行转换
 	 * @param node
 	 */
 	private void parseFilter(Node node) {
 		if (node instanceof And || node instanceof Or) {
 			/**
-			 * ߼롢ʱݹ鴦
+			 * 逻辑与、或时，递归处理
 			 */
 			parseFilter(node.getLeft());
 			parseFilter(node.getRight());
 		} else if (node instanceof Equals || node instanceof NotEquals) {
 			/**
-			 * αֶε==!=д
+			 * 对伪字段的==、!=进行处理
 			 */
 			if (node.getLeft() instanceof UnknownSymbol) {
-				//жǷαֶ
+				//判断是否是伪字段
 				String pname = ((UnknownSymbol) node.getLeft()).getName();
 				PseudoColumn col = getPd().findColumnByPseudoName(pname);
 				if (col != null) {
 					Sequence seq;
-					//жǷǶöαֶν
+					//判断是否是对枚举伪字段进行运算
 					if (col.get_enum() != null) {
 						seq = col.get_enum();
-						node.setLeft(new UnknownSymbol(col.getName()));//Ϊֶ
+						node.setLeft(new UnknownSymbol(col.getName()));//改为真字段
 						Integer obj = seq.firstIndexOf(node.getRight().calculate(ctx));
-						node.setRight(new Constant(obj));//öֵΪӦֵ
+						node.setRight(new Constant(obj));//把枚举值改为对应的真的值
 					}
 				}
 			} else if (node.getRight() instanceof UnknownSymbol) {
-				//ֶұߵҽһٴ߼һ
+				//处理字段名在右边的情况，左右交换一下再处理，逻辑跟上面一样
 				Node right = node.getRight();
 				node.setRight(node.getLeft());
 				node.setLeft(right);
 				parseFilter(node);
 			}
 		} else if (node instanceof DotOperator) {
-			//öбαֶεcontainд
+			//对有枚举列表的伪字段的contain进行处理
 			if (node.getRight() instanceof Contain) {
 				Contain contain = (Contain)node.getRight();
 				IParam param = contain.getParam();
@@ -897,7 +897,7 @@ public class PseudoTable extends Pseudo {
 					return;
 				}
 				
-				//жǷǶαֶνcontain
+				//判断是否是对伪字段进行contain运算
 				PseudoColumn col = null;
 				Node containNode = param.getLeafExpression().getHome();
 				if (containNode instanceof UnknownSymbol) {
@@ -907,11 +907,11 @@ public class PseudoTable extends Pseudo {
 				if (col != null && col.get_enum() != null) {
 					Object val = node.getLeft().calculate(ctx);
 					if (val instanceof Sequence) {
-						//containұߵֶΪֶ
+						//把contain右边的字段名改为真字段
 						IParam newParam = ParamParser.parse(col.getName(), null, ctx);
 						contain.setParam(newParam);
 						
-						//containߵöֵиΪӦֵ
+						//把contain左边的枚举值序列改为对应的真的值的序列
 						Sequence value = (Sequence) val;
 						Sequence newValue = new Sequence();
 						int size = value.length();
@@ -933,7 +933,7 @@ public class PseudoTable extends Pseudo {
 		
 		if (hasPseudoColumns) {
 			/**
-			 * αֶΣֵֶΣöֶ
+			 * 处理伪字段，二值字段，枚举字段
 			 */
 			Expression exp;
 			if (op instanceof Select) {
@@ -946,7 +946,7 @@ public class PseudoTable extends Pseudo {
 			Node node = exp.getHome();
 			if (node instanceof UnknownSymbol) {
 				/**
-				 * nodeαֶ
+				 * node是伪字段
 				 */
 				Node n = bitsToBoolean(node);
 				if (n != null) {
@@ -960,7 +960,7 @@ public class PseudoTable extends Pseudo {
 				}
 			} else {
 				/**
-				 * nodeֶͨ
+				 * node是普通字段
 				 */
 				replaceFilter(node);
 				parseFilter(node);
@@ -971,13 +971,13 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * ααתΪֶΣupdateappend
+	 * 把游标的伪列转换为真字段，用于update和append
 	 * @param cursor
 	 * @param columns
 	 * @param fields
 	 */
 	private void convertPseudoColumn(ICursor cursor, List<PseudoColumn> columns, String fields[]) {
-		//ȰѲαֶεĸֵ
+		//先把不是伪字段的赋值过来
 		DataStruct ds = new DataStruct(fields);
 		int size = ds.getFieldCount();
 		Expression []exps = new Expression[size];
@@ -987,7 +987,7 @@ public class PseudoTable extends Pseudo {
 			names[c] = fields[c];
 		}
 		
-		//תααֶ
+		//转换游标里的伪字段
 		size = columns.size();
 		for (int c = 0; c < size; c++) {
 			PseudoColumn column = columns.get(c);
@@ -996,11 +996,11 @@ public class PseudoTable extends Pseudo {
 			int idx = ds.getFieldIndex(column.getName());
 			
 			if (column.getExp() != null) {
-				//бʽα
+				//有表达式的伪列
 				exps[idx] = new Expression(column.getExp());
 				names[idx] = column.getName();
 			} else if (pseudoName != null && column.get_enum() != null) {
-				//öα
+				//枚举伪列
 				String var = "pseudo_enum_value_" + c;
 				Context context = cursor.getContext();
 				if (context == null) {
@@ -1013,12 +1013,12 @@ public class PseudoTable extends Pseudo {
 				exps[idx] = new Expression(var + ".pos(" + pseudoName + ")");
 				names[idx] = column.getName();
 			} else if (bitNames != null) {
-				//ֵαֶ(αֶΰλתΪһֶ)
+				//处理二值伪字段(多个伪字段按位转换为一个真字段)
 				String exp = "0";
 				int len = bitNames.length();
 				for (int i = 1; i <= len; i++) {
 					String field = (String) bitNames.get(i);
-					//תΪbitֵ,ۼ
+					//转换为bit值,并累加
 					int bit = 1 << (i - 1);
 					exp += "+ if(" + field + "," + bit + ",0)";
 				}
@@ -1032,21 +1032,21 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	public void append(ICursor cursor, String option) {
-		//׷ӵfile
+		//把数据追加到file
 		List<IPhyTable> tables = getPd().getTables();
 		IPhyTable table = null;
-		boolean flag = true;//д־
+		boolean flag = true;//立即写入标志
 		int size = tables.size();
 		if (size == 0) {
 			return;
 		} else if (option != null && option.indexOf("y") != -1) {
-			table = tables.get(0);//@yʱµһ
+			table = tables.get(0);//有@y时更新到第一个表
 			flag = false;
 		} else if (size == 1) {
 			table = tables.get(0);
 		} else {
 			/**
-			 * ļ׷ʱҪֲ·αԶ@x·ô
+			 * 文件组追加时要处理分布：单路游标自动加@x，多路不用处理
 			 */
 			if (!(cursor instanceof MultipathCursors)) {
 				option = (option == null) ? "x" : option + "x";
@@ -1071,7 +1071,7 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	public Sequence update(Sequence data, String opt) {
-		//µһfile
+		//更新到最后一个file
 		List<IPhyTable> tables = getPd().getTables();
 		int size = tables.size();
 		if (size == 0) {
@@ -1121,10 +1121,10 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * 
-	 * @param fkName	
-	 * @param fieldNames ֶ
-	 * @param code	
+	 * 添加外键
+	 * @param fkName	外键名
+	 * @param fieldNames 外键字段
+	 * @param code	外表
 	 * @return
 	 */
 	public Pseudo addForeignKeys(String fkName, String []fieldNames, Object code, String[] codeKeys, boolean clone) {
@@ -1145,7 +1145,7 @@ public class PseudoTable extends Pseudo {
 		return table;
 	}
 	
-	// ӱ
+	// 主子表按主表主键做有序连接
 //	public static ICursor join(PseudoTable masterTable, PseudoTable subTable) {
 //		String[] keys = masterTable.getPrimaryKey();
 //		if (keys != null) {
@@ -1154,7 +1154,7 @@ public class PseudoTable extends Pseudo {
 //			for (int i = 0; i < size; i++) {
 //				exps[i] = new Expression(keys[i]);
 //			}
-//			Expression [][]joinExps = new Expression [][] {exps, exps};//ʹjoin
+//			Expression [][]joinExps = new Expression [][] {exps, exps};//使用主表的主键做join
 //			
 //			ICursor cursors[] = new ICursor[]{masterTable.cursor(null, null), subTable.cursor(null, null)};
 //			ICursor cursor = CursorUtil.joinx(cursors, null, joinExps, null, masterTable.getContext());
@@ -1164,7 +1164,7 @@ public class PseudoTable extends Pseudo {
 //	}
 	
 	/**
-	 * Ӧֶ
+	 * 获得虚表对应的组表的字段
 	 * @return
 	 */
 	public String[] getFieldNames() {
@@ -1209,8 +1209,8 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * Ӧÿе
-	 * ע⣺صԵһ¼Ϊ׼
+	 * 获得虚表对应的组表的每列的数据类型
+	 * 注意：返回的类型是以第一条记录为准
 	 * @return
 	 */
 	public byte[] getFieldTypes() {
@@ -1235,8 +1235,8 @@ public class PseudoTable extends Pseudo {
 	}
 	
 	/**
-	 * еĶ
-	 * ûʱNULL
+	 * 返回虚表的所有外键列的定义
+	 * 没有外键时返回NULL
 	 * @return
 	 */
 	public List<PseudoColumn> getDimColumns() {
@@ -104,7 +104,7 @@ public class BufferUtilNormal extends BufferUtil {
 		return Double.longBitsToDouble(v);
 	}
 	
-	//Ǵoffset
+	//以下是带输入offset的
 	public static void parseShort(byte[] in, int inOffset, int[] out, int len) {
 		int offset = 0;
 		len = len * 2 + inOffset;
@@ -148,9 +148,9 @@ public class ExcelUtils {
 			}
 			bis = new BufferedInputStream(pin, Env.FILE_BUFSIZE);
 			boolean isXlsx = isXlsxFile(bis);
-			if (isXlsx) { // OOXMLԶ϶ļxlsx
+			if (isXlsx) { // 如果类型是OOXML可以断定文件类型是xlsx
 				return true;
-			} else { // OLE2ģһxlsҲǼ˵xlsxļ
+			} else { // 但是类型是OLE2的，不一定是xls，也可能是加密了的xlsx文件
 				if (fo != null) {
 					String fileName = fo.getFileName();
 					if (StringUtils.isValidString(fileName)) {
@@ -634,7 +634,7 @@ public class ExcelUtils {
 		short maxCol = row.getLastCellNum();
 		if (maxCol < 0)
 			return new Object[0];
-		// POI֧㹫ʽ
+		// POI支持重算公式格
 		// if (evaluator!=null) {
 		// evaluator.clearAllCachedResultValues();
 		// evaluator.evaluateAll();
@@ -657,12 +657,12 @@ public class ExcelUtils {
 					type = ExcelVersionCompatibleUtilGetter.getInstance()
 							.getCellType(evaluator.evaluate(cell));
 				} catch (Exception e) {
-					// poiֵ֧ĺ׳쳣Ϣ
+					// poi不支持的函数可能抛出异常信息
 					try {
 						type = ExcelVersionCompatibleUtilGetter.getInstance()
-								.getCachedFormulaResultType(cell); // ȡʽ񻺴
+								.getCachedFormulaResultType(cell); // 取公式格缓存的类型
 					} catch (Exception ex) {
-						// ȡֵ
+						// 试着取值
 						try {
 							items[colIndex] = new Boolean(
 									cell.getBooleanCellValue());
@@ -741,7 +741,7 @@ public class ExcelUtils {
 			CellStyle cellStyle = cell.getCellStyle();
 			String dataFormatString = cellStyle.getDataFormatString();
 			double d = cell.getNumericCellValue();
-			if ("@".equals(dataFormatString)) { // ֵݣıʽ
+			if ("@".equals(dataFormatString)) { // 数值内容，文本格式
 				DataFormatter dataFormatter = new DataFormatter();
 				return dataFormatter.formatCellValue(cell);
 			} else {
@@ -1071,22 +1071,22 @@ public class ExcelUtils {
 	}
 
 	/**
-	 * Excelʱֵתjavaʱ
+	 * 将Excel的日期时间数值转换成java的日期时间
 	 * @param excelDateNumber
 	 * @return Date
 	 */
 	public static Date excelDateNumber2JavaDate(Number excelDateNumber) {
 		Date date = DateUtil.getJavaDate(excelDateNumber.doubleValue());
-		if (excelDateNumber instanceof Integer) { // תΪ
+		if (excelDateNumber instanceof Integer) { // 整数转为日期
 			date = new java.sql.Date(date.getTime());
-		} else if (new Double(excelDateNumber.doubleValue()).compareTo(1.0d) < 0) { // ֻСתΪʱ
+		} else if (new Double(excelDateNumber.doubleValue()).compareTo(1.0d) < 0) { // 只有小数转为时间
 			date = new Time(date.getTime());
 		}
 		return date;
 	}
 
 	/**
-	 * javaʱתExcelʱֵ
+	 * 将java的日期时间转换成Excel的日期时间数值
 	 * @param date
 	 * @return double
 	 */
@@ -1100,7 +1100,7 @@ public class ExcelUtils {
 			time -= 1;
 		} else {
 			time = DateUtil.getExcelDate(date);
-			if (Double.compare(time, Math.round(time)) == 0) { // 
+			if (Double.compare(time, Math.round(time)) == 0) { // 是整数
 				return new Double(time).intValue();
 			}
 		}
@@ -1108,19 +1108,19 @@ public class ExcelUtils {
 	}
 
 	/**
-	 * ExcelsheetƲܳ31ַҲܰ[]:\/?*
+	 * Excel的sheet名称不能超过31个字符，并且不能包含[]:\/?*
 	 * @return
 	 */
 	public static void checkSheetName(Object s) {
-		if (!StringUtils.isValidString(s)) { // ַ߿ղ
+		if (!StringUtils.isValidString(s)) { // 非字符串或者空不检查
 			return;
 		}
 		String sheetName = s.toString();
-		// ExcelƵĳȲܳ31
+		// Excel工作表名称的长度不能超过31。
 		if (sheetName.length() > 31) {
 			throw new RQException(AppMessage.get().getMessage(
 					"excelutils.invalidsheetname"));
 		}
-		// ַļpoiѾˣټ
+		// 特殊字符的检查poi已经做了，不再检查了
 	}
 }
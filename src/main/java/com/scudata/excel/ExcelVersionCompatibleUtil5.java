@@ -116,7 +116,7 @@ public class ExcelVersionCompatibleUtil5 implements ExcelVersionCompatibleUtilIn
 		if (xc != null) {
 			byte[] argb = xc.getARGB();
 			if (argb != null) {
-				// edited by hhw 2012.2.8argbûaֵ
+				// edited by hhw 2012.2.8如果argb中没有a值则给它加上
 				if (argb.length == 3) {
 					byte[] tmp = new byte[4];
 					tmp[0] = (byte) -1;
@@ -210,10 +210,10 @@ public class ExcelVersionCompatibleUtil5 implements ExcelVersionCompatibleUtilIn
 		}
 	 }
 	
-	/** ñ߿ʽ
-	 * @param borderStyle Ǭжı߿ʽ
-	 * @param borderWidth ߿
-	 * @return Excelı߿ʽ
+	/** 获得边框样式
+	 * @param borderStyle 润乾报表中定义的边框样式
+	 * @param borderWidth 边框宽度
+	 * @return Excel的边框样式
 	 */
 	public short getBorderStyle( byte borderStyle, float width ) {
 		try {
@@ -228,13 +228,13 @@ public class ExcelVersionCompatibleUtil5 implements ExcelVersionCompatibleUtilIn
 	
 
 	/**
-	 * ñ߿ʽ
+	 * 获得边框样式
 	 * 
 	 * @param borderStyle
-	 *            Ǭжı߿ʽ
+	 *            润乾报表中定义的边框样式
 	 * @param borderWidth
-	 *            ߿
-	 * @return Excelı߿ʽ
+	 *            边框宽度
+	 * @return Excel的边框样式
 	 */
 	public short getISheetBorderStyle(byte borderStyle) {
 		try {
@@ -3,8 +3,8 @@ package com.scudata.excel;
 import com.scudata.common.Logger;
 
 /**
- * ȡPoi5.0.0Poi3.17汾ĵʵ
- * һ£ݰ汾ͬڲͬİСΪֿ룬ֱŵpoi-5.0.0.jarкpoi-3.17.jarС
+ * 获取Poi5.0.0或Poi3.17版本的导出工具实现类
+ * 类的名称一致，但根据版本不同，存放于不同的包中。为了区分开引入，分别放到了poi-5.0.0.jar中和poi-3.17.jar中。
  * */
 public class ExcelVersionCompatibleUtilGetter {
 	private static ExcelVersionCompatibleUtilInterface e = null;
@@ -23,201 +23,201 @@ import org.apache.poi.xssf.usermodel.XSSFSheet;
 
 
 /**
- * poi汾ݹ߽ӿڣʵֶӵpoi-5.0.0.jarpoi-3.17.jar 
+ * 公用poi版本方法兼容工具接口，实现类手动添加到poi-5.0.0.jar、poi-3.17.jar 
  * com/scudata/excel/ExcelVersionCompatibleUtil.class
- * ݰ汾ͬʵ
+ * 根据版本不同，方法实现有区别
 */
 public interface ExcelVersionCompatibleUtilInterface {
 	
 	/**
-	 * @return xlsx״½㻻
+	 * @return xlsx方块形状右下角坐标计算换算比例
 	 */
 	public int getXSSFShape_EMU_PER_PIXEL() ;
 
 	/**
-	 * ȡԪ
-	 * @param c Ŀ굥Ԫ
-	 * @return Ԫö
+	 * 获取单元格类型
+	 * @param c 目标单元格
+	 * @return 单元格类型枚举
 	 */
 	public CellType getCellType(Cell c);
 	
 	/**
 	 * 
-	 * @return xls͸ɫshortֵ
+	 * @return xls透明色short值
 	 */
 	public short getHSSFColor_AUTOMATIC_Index();
 
 	/**
-	 * xlsˮƽλó
+	 * xls水平位置常量
 	 * @param style
 	 * @return
 	 */
 	public HorizontalAlignment getHSSFAlignmentEnum(HSSFCellStyle style);
 
 	/**
-	 * xlsֱλó
+	 * xls垂直位置常量
 	 * @param style
 	 * @return
 	 */
 	public VerticalAlignment getHSSFVerticalAlignmentEnum(HSSFCellStyle style);
 
 	/**
-	 * xls߿
+	 * xls左边框常量
 	 * @param style
 	 * @return
 	 */
 	public short getHSSFBorderLeft(HSSFCellStyle style);
 	/**
-	 * xlsұ߿
+	 * xls右边框常量
 	 * @param style
 	 * @return
 	 */
 	public short getHSSFBorderRight(HSSFCellStyle style);
 	/**
-	 * xlsϱ߿
+	 * xls上边框常量
 	 * @param style
 	 * @return
 	 */
 	public short getHSSFBorderTop(HSSFCellStyle style);
 	/**
-	 * xls±߿
+	 * xls下边框常量
 	 * @param style
 	 * @return
 	 */
 	public short getHSSFBorderBottom(HSSFCellStyle style);
 	/**
-	 * xlsxˮƽλó
+	 * xlsx水平位置常量
 	 * @param style
 	 * @return
 	 */
 	public HorizontalAlignment getXSSFAlignmentEnum(XSSFCellStyle style);
 	/**
-	 * xlsxֱλó
+	 * xlsx垂直位置常量
 	 * @param style
 	 * @return
 	 */
 	public VerticalAlignment getXSSFVerticalAlignmentEnum(XSSFCellStyle style);
 	/**
-	 * xlsx߿
+	 * xlsx左边框常量
 	 * @param style
 	 * @return
 	 */
 	public short getXSSFBorderLeft(XSSFCellStyle style);
 	/**
-	 * xlsxұ߿
+	 * xlsx右边框常量
 	 * @param style
 	 * @return
 	 */
 	public short getXSSFBorderRight(XSSFCellStyle style);
 	/**
-	 * xlsxϱ߿
+	 * xlsx上边框常量
 	 * @param style
 	 * @return
 	 */
 	public short getXSSFBorderTop(XSSFCellStyle style);
 	/**
-	 * xlsx±߿
+	 * xlsx下边框常量
 	 * @param style
 	 * @return
 	 */
 	public short getXSSFBorderBottom(XSSFCellStyle style);
 
 	/**
-	 * ȡxlsxɫARGBֵ
+	 * 获取xlsx颜色对象的ARGB值
 	 * @param xc
-	 * @param defColor xcΪnull򷵻شColorARGB
+	 * @param defColor 如果xc为null，则返回此Color的ARGB
 	 * @return
 	 */
 	public int getColor(XSSFColor xc, Color defColor);
 	
 	/**
-	 * תint
+	 * 二进制转int数字
 	 * @param b
 	 * @return
 	 */
 	public int byteToInt(byte b);
 	
 	/**
-	 * жcellǷΪʽ
+	 * 判断cell是否为公式格
 	 * @param cell
 	 * @return
 	 */
 	public boolean isCellTypeFomula(Cell cell);
 	/**
-	 * xlsxͼ
+	 * 插入xlsx背景图
 	 * @param wbp
-	 * @param img ͼ
-	 * @param s Ҫӱͼsheetҳ
+	 * @param img 背景图
+	 * @param s 要添加背景图的sheet页对象
 	 * @throws IOException
 	 */
 	public void addWaterRemarkToExcel(Workbook wbp, BufferedImage img, Sheet s) throws IOException;
 	
-	/** ñ߿ʽ
-	 * @param borderStyle Ǭжı߿ʽ
-	 * @param borderWidth ߿
-	 * @return Excelı߿ʽ
+	/** 获得边框样式
+	 * @param borderStyle 润乾报表中定义的边框样式
+	 * @param borderWidth 边框宽度
+	 * @return Excel的边框样式
 	 */
 	public short getBorderStyle( byte borderStyle, float width );
 	
 
 	/**
-	 * ñ߿ʽ
+	 * 获得边框样式
 	 * 
 	 * @param borderStyle
-	 *            Ǭжı߿ʽ
+	 *            润乾报表中定义的边框样式
 	 * @param borderWidth
-	 *            ߿
-	 * @return Excelı߿ʽ
+	 *            边框宽度
+	 * @return Excel的边框样式
 	 */
 	public short getISheetBorderStyle(byte borderStyle);
 
 	/**
-	 * ȡԪ
-	 * @param value Ŀ굥Ԫֵ
-	 * @return Ԫö
+	 * 获取单元格类型
+	 * @param value 目标单元格值
+	 * @return 单元格类型枚举
 	 */
 	public CellType getCellType(CellValue value);
 	
 	/**
-	 * ȡsheetĳһı
+	 * 获取sheet中某一个富文本对象
 	 * @param sst
 	 * @param idx
 	 * @return
 	 */
 	public RichTextString getItemAt(SharedStringsTable sst, int idx);
 	/**
-	 * ȡsheetҳͼƬ
+	 * 获取sheet页里的图片集合
 	 * @param sheet
 	 * @param graphMap
 	 */
 	public void getSheetPictures(XSSFSheet sheet, Map<String, byte[]> graphMap);
 	/**
-	 * ȡָfontı
+	 * 获取指定font的编号
 	 * @param font
-	 * @return ͳһint
+	 * @return 统一返回int
 	 */
 	public int getFontIndex(Font font);
 	/**
-	 * ȡָԪʽfontı
+	 * 获取指定单元格样式对象里的font的编号
 	 * @param style
-	 * @return ͳһint
+	 * @return 统一返回int
 	 */
 	public int getFontIndex(CellStyle style);
 	/**
-	 * Workbook.getNumberOfFonts()
+	 * 引用Workbook.getNumberOfFonts()
 	 * @param wb
-	 * @return ͳһint
+	 * @return 统一返回int
 	 */
 	public int getNumberOfFonts(Workbook wb);
 	/**
-	 * Workbook.getNumberOfSheets()
+	 * 引用Workbook.getNumberOfSheets()
 	 * @param wb
-	 * @return ͳһint
+	 * @return 统一返回int
 	 */
 	public int getNumberOfSheets(Workbook wb);
 
 	/**
-	 * ȡָŵFont
+	 * 获取指定编号的字体Font对象
 	 * @param wb
 	 * @param index
 	 * @return
@@ -225,7 +225,7 @@ public interface ExcelVersionCompatibleUtilInterface {
 	public Font getFontAt(Workbook wb, Number index);
 	
 	/**
-	 * صԪʽ
+	 * 返回单元格公式计算结果类型
 	 * @param cell
 	 * @return
 	 */
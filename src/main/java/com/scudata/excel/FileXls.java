@@ -299,7 +299,7 @@ public class FileXls extends XlsFileObject {
 				sheet = wb.getSheetAt(index - 1);
 				if (deleteOldSheet) {
 					String oldName = sheet.getSheetName();
-					// ɾɵ
+					// 先删除旧的
 					wb.removeSheetAt(index - 1);
 					removeSheet(oldName);
 					this.insert(index, new Object[] { oldName, new Integer(0),
@@ -65,7 +65,7 @@ public class FileXlsR extends XlsFileObject {
 			if (fo.isRemoteFile()) {
 				is = fo.getInputStream();
 			} else {
-				// ص֧·
+				// 本地的支持相对路径
 				filePath = ConfigUtil.getPath(Env.getMainPath(), filePath);
 				is = new FileInputStream(filePath);
 			}
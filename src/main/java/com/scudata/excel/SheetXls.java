@@ -894,7 +894,7 @@ public class SheetXls extends SheetObject {
 			Sequence seq = (Sequence) content;
 			int rowCount = seq.length();
 			if (isRowInsert) {
-				// к󳬳ƣ{0}
+				// ：插入行后超出行数限制：{0}
 				if (totalCount + rowCount - 1 > IExcelTool.MAX_XLS_LINECOUNT) {
 					throw new RQException("xlscell"
 							+ AppMessage.get().getMessage(
@@ -477,11 +477,11 @@ public class XlsExporter implements IExcelTool {
 			return;
 		try {
 			int lastRow = sheet.getLastRowNum();
-			if (lastRow < 0) { // û
+			if (lastRow < 0) { // 没有行
 				return;
 			}
-			// ҵݵһС@tΪ
-			// û@t滹пУʹÿʽʹôʽ
+			// 找到有内容的最后一行。如果@t此行作为标题行
+			// 如果没有@t：后面还有空行，使用空行样式，否则使用此行样式
 			int lastContentRow = -1;
 			HSSFRow hr;
 			int colCount = 0;
@@ -496,34 +496,34 @@ public class XlsExporter implements IExcelTool {
 					break;
 				}
 			}
-			// ȷк
-			if (hasTitle) { // б
-				if (lastContentRow == -1) { // ûҵ
+			// 确定标题行和数据行
+			if (hasTitle) { // 有标题
+				if (lastContentRow == -1) { // 没有找到有内容行
 					lastContentRow = 0;
 				}
-				currRow = lastContentRow; // Ǳ
-				dataStyle = getRowStyle(lastContentRow + 1); // һ
+				currRow = lastContentRow; // 覆盖标题行
+				dataStyle = getRowStyle(lastContentRow + 1); // 数据行是下一行
 			} else {
-				if (lastContentRow == -1) { // ûҵ
+				if (lastContentRow == -1) { // 没有找到有内容行
 					currRow = 0;
 				} else {
-					currRow = lastContentRow + 1; // һеĵһпʼд
+					currRow = lastContentRow + 1; // 最后一个有内容行的的下一行开始写
 				}
-				if (lastContentRow < lastRow) { // к滹УһиʽΪиʽ
+				if (lastContentRow < lastRow) { // 如果有内容行后面还有行，用下一个空行格式作为数据行格式
 					dataStyle = getRowStyle(lastContentRow + 1);
 				} else {
-					dataStyle = getRowStyle(lastContentRow); // Ϊһе
+					dataStyle = getRowStyle(lastContentRow); // 认为最后一个有内容行的是数据行
 				}
 			}
 
-			maxWriteCount -= currRow + 1; // currRowʼд
+			maxWriteCount -= currRow + 1; // 从currRow开始，可写的最大行数
 
 			colStyles = new HSSFCellStyle[colCount];
 			for (int c = 0; c < colCount; c++) {
 				colStyles[c] = sheet.getColumnStyle(c);
 			}
 
-		} catch (Exception e) { // ˣ֤ѴϢ
+		} catch (Exception e) { // 读不到就算了，保证导出正常，把错误信息打出来
 			e.printStackTrace();
 		}
 	}
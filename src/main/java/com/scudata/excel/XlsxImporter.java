@@ -69,11 +69,11 @@ public class XlsxImporter implements IExcelTool {
 			throw e;
 		} catch (OLE2NotOfficeXmlFileException e) {
 			if (pwd == null) {
-				// ExcelļXLSʽǼļ
+				// Excel文件是XLS格式，或者是加密文件。
 				throw new RQException(AppMessage.get().getMessage(
 						"xlsximporter.ole2nopwd"), e);
 			} else {
-				// ExcelļXLSʽ
+				// Excel文件是XLS格式。
 				throw new RQException(AppMessage.get().getMessage(
 						"xlsximporter.ole2pwd"), e);
 			}
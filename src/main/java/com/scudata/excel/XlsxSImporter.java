@@ -127,7 +127,7 @@ public class XlsxSImporter implements ILineInput {
 			if (fo.isRemoteFile()) {
 				is = fo.getInputStream();
 				if (pwd != null) {
-					// xlsimportѾж
+					// xlsimport函数中已经判断了
 					// if (filePath != null && filePath.toLowerCase().endsWith(".xls")) {
 					// MessageManager mm = AppMessage.get();
 					// throw new RQException("xlsimport" + mm.getMessage("xlsfile.needxlsx"));
@@ -139,11 +139,11 @@ public class XlsxSImporter implements ILineInput {
 					this.xlsxPackage = OPCPackage.open(is);
 				}
 			} else {
-				// ص֧·
+				// 本地的支持相对路径
 				filePath = ConfigUtil.getPath(Env.getMainPath(), filePath);
 				if (pwd != null) {
 					is = new FileInputStream(filePath);
-					// xlsimportѾж
+					// xlsimport函数中已经判断了
 					// if (filePath != null && filePath.toLowerCase().endsWith(".xls")) {
 					// MessageManager mm = AppMessage.get();
 					// throw new RQException("xlsimport" + mm.getMessage("xlsfile.needxlsx"));
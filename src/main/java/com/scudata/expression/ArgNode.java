@@ -13,12 +13,12 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * evalõĲ??1
+ * eval函数里用到的参数，比如?、?1
  * @author WangXiaoJun
  *
  */
 public class ArgNode extends Node {
-	private int index = -1; // ֵΪ0ʱʾȡвΣ0ʱʾȡӦλõĲ
+	private int index = -1; // 值为0时表示取所有参，大于0时表示取相应位置的参数
 
 	public ArgNode(String id) {
 		if (id.length() > 1) index = Integer.parseInt(id.substring(1));
@@ -55,8 +55,8 @@ public class ArgNode extends Node {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -66,10 +66,10 @@ public class ArgNode extends Node {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -77,9 +77,9 @@ public class ArgNode extends Node {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -97,8 +97,8 @@ public class ArgNode extends Node {
 	}
 	
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return true;
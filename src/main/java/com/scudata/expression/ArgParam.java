@@ -10,7 +10,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.util.Variant;
 
 /**
- * ڵ㣬ֵɱ޸
+ * 参数节点，值不可被修改
  * @author RunQian
  *
  */
@@ -36,8 +36,8 @@ public class ArgParam extends Node {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -46,10 +46,10 @@ public class ArgParam extends Node {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -57,9 +57,9 @@ public class ArgParam extends Node {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -77,8 +77,8 @@ public class ArgParam extends Node {
 	}
 
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return true;
@@ -11,7 +11,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.util.Variant;
 
 /**
- * Ԫ
+ * 单元格引用
  * A1
  * @author RunQian
  *
@@ -57,8 +57,8 @@ public class CSVariable extends Node {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -67,10 +67,10 @@ public class CSVariable extends Node {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -78,9 +78,9 @@ public class CSVariable extends Node {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -98,8 +98,8 @@ public class CSVariable extends Node {
 	}
 	
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return true;
@@ -11,7 +11,7 @@ import com.scudata.dm.op.Operable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ѭִбʽ
+ * 循环序列执行表达式，返回运算结果
  * A.(x)
  * @author WangXiaoJun
  *
@@ -20,16 +20,16 @@ public class Calc extends MemberFunction {
 	private Object srcObj;
 	
 	/**
-	 * ú
-	 * @param cs 
-	 * @param ctx 
-	 * @param param ַ
+	 * 设置函数参数
+	 * @param cs 网格对象
+	 * @param ctx 计算上下文
+	 * @param param 函数参数字符串
 	 */
 	public void setParameter(ICellSet cs, Context ctx, String param) {
 		strParam = param;
 		this.cs = cs;
 		
-		// A.(x,)Ѳһ崴ɶűʽ
+		// A.(x,…)把参数当成一个整体创建成逗号表达式
 		this.param = ParamParser.newLeafParam(param, cs, ctx);
 		//this.param = ParamParser.parse(param, cs, ctx);
 	}
@@ -43,8 +43,8 @@ public class Calc extends MemberFunction {
 	}
 	
 	/**
-	 * жϵǰڵǷк
-	 * ҲڵкڵҪת
+	 * 判断当前节点是否是序列函数
+	 * 如果点操作符的右侧节点是序列函数，左侧节点计算出数，则需要把数转成数列
 	 * @return
 	 */
 	public boolean isSequenceFunction() {
@@ -3,7 +3,7 @@ package com.scudata.expression;
 import com.scudata.dm.op.Channel;
 
 /**
- * ܵԱ
+ * 管道成员函数基类
  * ch.f()
  * @author RunQian
  *
@@ -5,13 +5,13 @@ import com.scudata.dm.*;
 import com.scudata.util.*;
 
 /**
- * valueΪַʱA1ʾ봮=A1ʾʽ 洢plotַʱֱΪ "A1" A1
+ * value为字符串的时候，A1表示输入串，=A1表示输入表达式 存储在plot字符串函数时，分别为： "A1"， A1
  */
 public class ChartParam {
-	// ƣòֱΪͼԪ
+	// 参数名称，该参数名称直接为图元的属性名称
 	protected String name;
 	protected Object value;
-	protected String axis; // ֵӦ
+	protected String axis; // 参数值对应的轴
 
 	public ChartParam() {
 	}
@@ -60,7 +60,7 @@ public class ChartParam {
 			axis = Escape.removeEscAndQuote(at.next());
 			value = "=" + tmp;
 		} else{
-			boolean removeEscape = !tmp.startsWith("["); // Уʱȥ
+			boolean removeEscape = !tmp.startsWith("["); // 如果是序列，则解析时不能去引号
 			value = Variant.parse(tmp, removeEscape);
 			if (value instanceof String && Variant.isEquals(tmp, value)) {
 				value = "=" + value;
@@ -72,7 +72,7 @@ public class ChartParam {
 		if (val.startsWith("=")) {
 			return val.substring(1);
 		} else {
-//			ı༭ֵ 
+//			文本框编辑出的数值， 不加引号
 			Object obj = Variant.parse(val, false);
 			if(obj instanceof Number){
 				return val;
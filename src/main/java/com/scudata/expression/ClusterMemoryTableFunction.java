@@ -3,7 +3,7 @@ package com.scudata.expression;
 import com.scudata.parallel.ClusterMemoryTable;
 
 /**
- * ȺڱԱ
+ * 集群内表成员函数基类
  * T.f()
  * @author RunQian
  *
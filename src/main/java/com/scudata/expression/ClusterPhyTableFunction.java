@@ -3,7 +3,7 @@ package com.scudata.expression;
 import com.scudata.parallel.ClusterPhyTable;
 
 /**
- * Ⱥ
+ * 集群组表函数基类
  * T.f()
  * @author RunQian
  *
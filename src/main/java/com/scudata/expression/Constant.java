@@ -3,13 +3,14 @@ package com.scudata.expression;
 import com.scudata.array.BoolArray;
 import com.scudata.array.ConstArray;
 import com.scudata.array.IArray;
+import com.scudata.dm.BaseRecord;
 import com.scudata.dm.Context;
 import com.scudata.dm.DBObject;
 import com.scudata.dm.Sequence;
 import com.scudata.util.Variant;
 
 /**
- * ڵ
+ * 常数节点
  * @author WangXiaoJun
  *
  */
@@ -28,7 +29,7 @@ public class Constant extends Node {
 		}
 	}
 
-	// ϲַ
+	// 合并字符串常量
 	public boolean append(Constant c) {
 		if (value instanceof String && c.value instanceof String) {
 			value = (String)value + (String)c.value;
@@ -41,10 +42,14 @@ public class Constant extends Node {
 	public Object calculate(Context ctx) {
 		return value;
 	}
+
+	protected boolean containMutableConstant() {
+		return value instanceof Sequence || value instanceof BaseRecord;
+	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -53,10 +58,10 @@ public class Constant extends Node {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -64,9 +69,9 @@ public class Constant extends Node {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -83,8 +88,8 @@ public class Constant extends Node {
 	}
 	
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return true;
@@ -5,8 +5,8 @@ import com.scudata.dm.DataStruct;
 import com.scudata.dm.Record;
 
 /**
- * ¼
- * {f1:v1,...} ֶǳֵǱʽ
+ * 创建记录
+ * {f1:v1,...} 字段名是常串，值是表达式
  * @author RunQian
  *
  */
@@ -15,17 +15,17 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ȡеĵǰԪ
+ * 用于取序列的当前元素
  * r.(~) A.(~)  A.(A.~)
  * @author WangXiaoJun
  *
  */
 public class CurrentElement extends Node {
 	private Sequence sequence;
-	private Node left; // ڵ	
+	private Node left; // 点操作符的左侧节点	
 
 	/**
-	 * ȡڵڵ㣬ûзؿ
+	 * 取节点的左侧节点，没有返回空
 	 * @return Node
 	 */
 	public Node getLeft() {
@@ -33,8 +33,8 @@ public class CurrentElement extends Node {
 	}
 
 	/**
-	 * ýڵڵ
-	 * @param node ڵ
+	 * 设置节点的左侧节点
+	 * @param node 节点
 	 */
 	public void setLeft(Node node) {
 		left = node;
@@ -59,10 +59,10 @@ public class CurrentElement extends Node {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -70,9 +70,9 @@ public class CurrentElement extends Node {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -89,8 +89,8 @@ public class CurrentElement extends Node {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -289,8 +289,8 @@ public class CurrentElement extends Node {
 	}
 	
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return true;
@@ -16,17 +16,17 @@ import com.scudata.dm.Sequence;
 import com.scudata.resources.EngineMessage;
 
 /**
- * еĵǰѭ
+ * 序列的当前循环序号
  * #  A.#
  * @author RunQian
  *
  */
 public class CurrentSeq extends Node {
 	private Sequence sequence;
-	private Node left; // ڵ	
+	private Node left; // 点操作符的左侧节点	
 
 	/**
-	 * ȡڵڵ㣬ûзؿ
+	 * 取节点的左侧节点，没有返回空
 	 * @return Node
 	 */
 	public Node getLeft() {
@@ -34,8 +34,8 @@ public class CurrentSeq extends Node {
 	}
 
 	/**
-	 * ýڵڵ
-	 * @param node ڵ
+	 * 设置节点的左侧节点
+	 * @param node 节点
 	 */
 	public void setLeft(Node node) {
 		left = node;
@@ -69,10 +69,10 @@ public class CurrentSeq extends Node {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -80,9 +80,9 @@ public class CurrentSeq extends Node {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -99,8 +99,8 @@ public class CurrentSeq extends Node {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -150,8 +150,8 @@ public class CurrentSeq extends Node {
 	}
 	
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return true;
@@ -3,7 +3,7 @@ package com.scudata.expression;
 import com.scudata.dm.cursor.ICursor;
 
 /**
- * αԱ
+ * 游标成员函数基类
  * cs.f()
  * @author RunQian
  *
@@ -3,7 +3,7 @@ package com.scudata.expression;
 import com.scudata.dm.DBObject;
 
 /**
- * ݿԱ
+ * 数据库成员函数基类
  * db.f()
  * @author RunQian
  *
@@ -18,7 +18,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * Ԫ
+ * 序列元素引用
  * A(2)  A([2,4])
  * @author WangXiaoJun
  *
@@ -31,7 +31,7 @@ public class ElementRef extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (left == null) {
@@ -59,6 +59,16 @@ public class ElementRef extends Function {
 		return super.containParam(name);
 	}
 
+	protected boolean containMutableConstant() {
+		if (left.containMutableConstant()) return true;
+		return super.containMutableConstant();
+	}
+
+	protected void resetState() {
+		left.resetState();
+		super.resetState();
+	}
+
 	protected void getUsedParams(Context ctx, ParamList resultList) {
 		left.getUsedParams(ctx, resultList);
 		super.getUsedParams(ctx, resultList);
@@ -104,10 +114,10 @@ public class ElementRef extends Function {
 	}
 	
 	/**
-	 * Ԫظֵ
-	 * @param ֵ
-	 * @param ctx 
-	 * @return ֵ
+	 * 对序列元素赋值
+	 * @param 新值
+	 * @param ctx 计算上下文
+	 * @return 新值
 	 */
 	public Object assign(Object value, Context ctx) {
 		Object result1 = left.calculate(ctx);
@@ -120,7 +130,7 @@ public class ElementRef extends Function {
 		int len = srcSeries.length();
 		Object pval = param.getLeafExpression().calculate(ctx);
 
-		// Խ籨Զ
+		// 越界报错，不自动补
 		if (pval instanceof Number) {
 			int index = ((Number)pval).intValue();
 			if (index > len) {
@@ -181,10 +191,10 @@ public class ElementRef extends Function {
 	}
 	
 	/**
-	 * Ԫ+=
-	 * @param ֵ
-	 * @param ctx 
-	 * @return ֵ
+	 * 对序列元素做+=运算
+	 * @param 值
+	 * @param ctx 计算上下文
+	 * @return 新值
 	 */
 	public Object addAssign(Object value, Context ctx) {
 		Object result1 = left.calculate(ctx);
@@ -197,7 +207,7 @@ public class ElementRef extends Function {
 		int len = srcSeries.length();
 		Object pval = param.getLeafExpression().calculate(ctx);
 
-		// Խ籨Զ
+		// 越界报错，不自动补
 		if (pval instanceof Number) {
 			int index = ((Number)pval).intValue();
 			if (index > len) {
@@ -217,8 +227,8 @@ public class ElementRef extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -295,10 +305,10 @@ public class ElementRef extends Function {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -306,9 +316,9 @@ public class ElementRef extends Function {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -362,9 +372,9 @@ public class ElementRef extends Function {
 	}
 
 	/**
-	 * жϸֵΧǷ㵱ǰʽ
-	 * @param ctx 
-	 * @return ȡֵRelation. -1ֵΧûֵ0ֵΧֵ1ֵΧֵ
+	 * 判断给定的值域范围是否满足当前条件表达式
+	 * @param ctx 计算上行文
+	 * @return 取值参照Relation. -1：值域范围内没有满足条件的值，0：值域范围内有满足条件的值，1：值域范围的值都满足条件
 	 */
 	public int isValueRangeMatch(Context ctx) {
 		IArray sequenceArray = left.calculateRange(ctx);
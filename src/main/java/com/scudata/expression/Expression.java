@@ -28,21 +28,21 @@ import com.scudata.util.EnvUtil;
 import com.scudata.util.Variant;
 
 /**
- * ʽ
+ * 表达式对象
  * @author WangXiaoJun
  *
  */
 public class Expression {
 	public static final Expression NULL = new Expression(new Constant(null));
 
-	public static final byte TYPE_DB = 1; // ݿ
-	public static final byte TYPE_FILE = 2; // ļ
-	public static final byte TYPE_SEQUENCE = 3; // 
-	public static final byte TYPE_TABLE = 4; // 
-	public static final byte TYPE_CURSOR = 5; // α
+	public static final byte TYPE_DB = 1; // 数据库连接
+	public static final byte TYPE_FILE = 2; // 文件对象
+	public static final byte TYPE_SEQUENCE = 3; // 序列
+	public static final byte TYPE_TABLE = 4; // 序表
+	public static final byte TYPE_CURSOR = 5; // 游标
 	
-	public static final byte TYPE_OTHER = 101; // Ϸֵ
-	public static final byte TYPE_UNKNOWN = 102; // ޷ȷֵ
+	public static final byte TYPE_OTHER = 101; // 非以上返回值类型
+	public static final byte TYPE_UNKNOWN = 102; // 无法确定返回值类型
 
 	public static final boolean DoOptimize = true;
 
@@ -51,54 +51,54 @@ public class Expression {
 	private Node home;
 	private ICellSet cs;
 
-	// ǷԼȫֵиֵʱֻһм
+	// 是否可以计算全部的值，有赋值运算时只能一行行计算
 	private boolean canCalculateAll;
 	
 	/**
-	 * ʽ
-	 * @param str ıʽ
+	 * 构建表达式
+	 * @param str 待解析的表达式
 	 */
 	public Expression(String str) {
 		this(null, null, str);
 	}
 	
 	/**
-	 * ʽ
-	 * @param ctx 
-	 * @param str ıʽ
+	 * 构建表达式
+	 * @param ctx 计算上下文
+	 * @param str 待解析的表达式
 	 */
 	public Expression(Context ctx, String str) {
 		this(null, ctx, str);
 	}
 
 	/**
-	 * ʽ
-	 * @param cs ǰ
-	 * @param ctx 
-	 * @param str ıʽ
+	 * 构建表达式
+	 * @param cs 当前网格
+	 * @param ctx 计算上下文
+	 * @param str 待解析的表达式
 	 */
 	public Expression(ICellSet cs, Context ctx, String str) {
 		this(cs, ctx, str, DoOptimize, true);
 	}
 
 	/**
-	 * ʽ
-	 * @param cs ǰ
-	 * @param ctx 
-	 * @param str ıʽ
-	 * @param opt ǷŻ
+	 * 构建表达式
+	 * @param cs 当前网格
+	 * @param ctx 计算上下文
+	 * @param str 待解析的表达式
+	 * @param opt 是否做优化
 	 */
 	public Expression(ICellSet cs, Context ctx, String str, boolean opt) {
 		this(cs, ctx, str, opt, true);
 	}
 
 	/**
-	 * ʽ
-	 * @param cs ǰ
-	 * @param ctx 
-	 * @param str ıʽ
-	 * @param opt ǷŻ
-	 * @param doMacro Ƿ滻
+	 * 构建表达式
+	 * @param cs 当前网格
+	 * @param ctx 计算上下文
+	 * @param str 待解析的表达式
+	 * @param opt 是否做优化
+	 * @param doMacro 是否做宏替换
 	 */
 	public Expression(ICellSet cs, Context ctx, String str, boolean opt, boolean doMacro) {
 		this.cs = cs;
@@ -127,8 +127,8 @@ public class Expression {
 	}
 
 	/**
-	 * ʽ
-	 * @param node ʽڵ
+	 * 构建表达式
+	 * @param node 表达式根节点
 	 */
 	public Expression(Node node) {
 		home = node;
@@ -136,7 +136,7 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡýڵ
+	 * 取得节点
 	 * @return Node
 	 */
 	public Node getHome() {
@@ -144,25 +144,25 @@ public class Expression {
 	}
 
 	/**
-	 * رʽǷǳʽ
-	 * @return trueǣfalse
+	 * 返回表达式是否是常数表达式
+	 * @return true：是，false：不是
 	 */
 	public boolean isConstExpression() {
 		return home instanceof Constant;
 	}
 	
 	/**
-	 * ʽ
-	 * @param ctx 㱨ʱĻ
-	 * @return 
+	 * 运算表达式
+	 * @param ctx 运算报表时的上下文环境变量
+	 * @return 运算结果
 	 */
 	public Object calculate(Context ctx) {
 		return home.calculate(ctx);
 	}
 
 	/**
-	 * õĵԪ񣬲ȡԪֵʽǵԪ򷵻ؿ
-	 * @param ctx 
+	 * 计算出引用的单元格，不是取单元格的值，如果表达式不是单元格引用则返回空
+	 * @param ctx 计算上下文
 	 * @return INormalCell
 	 */
 	public INormalCell calculateCell(Context ctx) {
@@ -170,7 +170,7 @@ public class Expression {
 	}
 
 	/**
-	 * Աʽִиֵ
+	 * 对表达式执行赋值操作
 	 * @param value Object
 	 * @param ctx Context
 	 */
@@ -179,7 +179,7 @@ public class Expression {
 	}
 
 	/**
-	 * ȡʽ
+	 * 取表达式串
 	 * @return String
 	 */
 	public String toString() {
@@ -187,7 +187,7 @@ public class Expression {
 	}
 
 	/**
-	 * ȡʶ֣õȥ
+	 * 取标识符名字，用单引号括起来的去掉单引号
 	 * @return String
 	 */
 	public String getIdentifierName() {
@@ -202,7 +202,7 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡʽӦֶڸݱʽԶֶ
+	 * 取表达式对应的字段名，用于根据表达式自动生成字段名
 	 * @return
 	 */
 	public String getFieldName() {
@@ -210,9 +210,9 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡʽӦֶnew֮ĺʡֶʱ
-	 * A.ff#1f
-	 * @param ds Դݽṹɿ
+	 * 取表达式对应的字段名，用于new之类的函数省略字段名的时候
+	 * A.f变成f，#1变成f
+	 * @param ds 源表的数据结构，可空
 	 */
 	public String getFieldName(DataStruct ds) {
 		if (home instanceof DotOperator) {
@@ -240,9 +240,9 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡʽӦֶ
-	 * @param ds ݽṹ
-	 * @return ֶֶαʽ򷵻-1
+	 * 取表达式对应的字段索引
+	 * @param ds 数据结构
+	 * @return 字段索引，如果不是字段表达式则返回-1
 	 */
 	public int getFieldIndex(DataStruct ds) {
 		return getFieldIndex(home, ds);
@@ -274,15 +274,15 @@ public class Expression {
 	}
 
 	/**
-	 * ʽŻ
-	 * @param ctx 㱨ʱĻ
+	 * 表达式优化
+	 * @param ctx 运算报表时的上下文环境变量
 	 */
 	public void optimize(Context ctx) {
 		home = home.optimize(ctx);
 	}
 
 	/**
-	 * Ƿָ
+	 * 返回是否包含指定参数
 	 * @param name String
 	 * @return boolean
 	 */
@@ -295,15 +295,30 @@ public class Expression {
 	}
 
 	/**
-	 * ұʽõĲ
-	 * @param resultList ParamList µĲ
+	 * 返回是否包含值为序列或记录的常数，这种常数在计算时可能被修改，表达式不能被多次计算共用
+	 * @return boolean
+	 */
+	public boolean containMutableConstant() {
+		return home.containMutableConstant();
+	}
+
+	/**
+	 * 重置表达式中的函数计算时保留的状态，表达式被再次使用时从头开始计算
+	 */
+	public void resetState() {
+		home.resetState();
+	}
+
+	/**
+	 * 查找表达式中用到的参数
+	 * @param resultList ParamList 生成新的参数对象
 	 */
 	public void getUsedParams(Context ctx, ParamList resultList) {
 		home.getUsedParams(ctx, resultList);
 	}
 	
 	/**
-	 * ұʽпõֶΣȡò׼ȷ߰
+	 * 查找表达式中可能用到的字段，可能取得不准确或者包含多个表的
 	 * @param ctx
 	 * @param resultList
 	 */
@@ -312,14 +327,14 @@ public class Expression {
 	}
 	
 	/**
-	 * ʽֶλֶ򷵻ֶ飬򷵻null
-	 * @param exp ʽ
-	 * @return ֶ
+	 * 如果表达式是字段或字段序列则返回字段名数组，否则返回null
+	 * @param exp 表达式
+	 * @return 字段名数组
 	 */
 	public String[] toFields() {
 		Node node = getHome();
 		
-		// ֶ
+		// 单字段
 		if (node instanceof UnknownSymbol) {
 			String [] res = new String[1];
 			res[0] = ((UnknownSymbol) node).getName();
@@ -349,7 +364,7 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡʽõĵԪ
+	 * 取表达式用到的单元格
 	 * @param List<INormalCell> resultList
 	 */
 	public void getUsedCells(List<INormalCell> resultList) {
@@ -357,13 +372,13 @@ public class Expression {
 	}
 
 	/**
-	 * رʽһȼ'.'ߵĽڵķֵ
+	 * 返回表达式最后一个优先级比'.'高的节点的返回值类型
 	 * @param ctx Context
 	 * @return byte
 	 */
 	public byte getExpValueType(Context ctx) {
 		Node right = home;
-		while (right != null && right.getPriority() < Node.PRI_SUF) { // .ȼ
+		while (right != null && right.getPriority() < Node.PRI_SUF) { // .的优先级
 			right = right.getRight();
 		}
 
@@ -529,7 +544,7 @@ public class Expression {
 					node = new UnionAssign();
 					location++;
 				} else {
-					node = new Union(); // 
+					node = new Union(); // 并列
 				}
 				break;
 			case '^':
@@ -606,6 +621,7 @@ public class Expression {
 				if (preNode instanceof DotOperator) {
 					node = new FieldRef(strID);
 				} else {
+					setParseBound(cs);
 					node = new UnknownSymbol(strID);
 				}
 				break;
@@ -617,7 +633,7 @@ public class Expression {
 				}
 
 				if (preNode == null || preNode instanceof Operator) {
-					node = new ValueList(); // [elm1, elm2, ...]
+					node = new ValueList(); // 序列[elm1, elm2, ...]
 				} else { // series[2] field[2] series.field[2] series[2].field H[hc] F[hc]
 					node = new Move();
 				}
@@ -633,10 +649,10 @@ public class Expression {
 				}
 
 				if (preNode == null || preNode instanceof Operator) {
-					//{} ¼ʽ
+					//{} 记录表达式
 					node = new CreateRecord();
 				} else {
-					// ź
+					// 排号运算
 					node = new Moves();
 				}
 				
@@ -647,7 +663,7 @@ public class Expression {
 				node = createNode(cs, ctx, preNode);
 			}
 
-			// x y	ִxyϲ
+			// x y	将字串常量x与y合并
 			if (preNode instanceof Constant && node instanceof Constant &&
 				((Constant)preNode).append((Constant)node)) {
 				continue;
@@ -695,6 +711,7 @@ public class Expression {
 		} else if (KeyWord.isFieldId(id)) {
 			return new FieldId(id); // #n, r.#n
 		} else if (KeyWord.isIterateParam(id)) {
+			setParseBound(cs);
 			return new VarParam(ctx.getIterateParam()); // ~~
 		}
 
@@ -705,10 +722,10 @@ public class Expression {
 			}
 		}
 
-		//series.select(...),series.field
+		//形如series.select(...),series.field
 		if (preNode instanceof DotOperator) return createMemberNode(cs, id, ctx);
 
-		if (id.equals("$") && isNextChar('[')) { // ַ
+		if (id.equals("$") && isNextChar('[')) { // 字符串
 			int index = expStr.indexOf('[', location);
 			int match = Sentence.scanBracket(expStr, index);
 			if (match != -1) {
@@ -732,10 +749,12 @@ public class Expression {
 			return new ArgNode(id);
 		}
 
-		//
+		//参数，变量
 		Param var = EnvUtil.getParam(id, ctx);
 		if (var != null) {
-			// connectionɲ
+			setParseBound(cs);
+			
+			// connection由参数传入
 			Object val = var.getValue();
 			if (val instanceof DBSession) {
 				return new Constant(new DBObject((DBSession)val));
@@ -752,7 +771,7 @@ public class Expression {
 			}
 		}
 		
-		// Ƚɱͺfunction@ú
+		// 优先解析成变量，如果和函数重名则用function@引用函数
 		// function() or function@opt()
 		if (isNextChar('(')) {
 			int atIdx = id.indexOf(KeyWord.OPTION);
@@ -794,11 +813,12 @@ public class Expression {
 		if (ctx != null) {
 			DBSession dbs = ctx.getDBSession(id);
 			if (dbs != null) {
+				setParseBound(cs);
 				return new Constant(new DBObject(dbs));
 			}
 		}
 
-		// ж
+		// 浮点数的判断
 		if (isNextChar('.') && isNumber(id)) {
 			int prevPos = location++;
 			if (isNextChar('(')) { // n.()
@@ -814,14 +834,22 @@ public class Expression {
 		}
 
 		Object value = Variant.parse(id);
-		if (value instanceof String) { // ֶ;
+		if (value instanceof String) { // 字段名;
+			setParseBound(cs);
 			return new UnknownSymbol( (String) value);
 		} else {
 			return new Constant(value);
 		}
 	}
 
-	//к,
+	// 产生了跟计算上下文相关的节点，通知程序网表达式不能在重置后继续使用
+	private static void setParseBound(ICellSet cs) {
+		if (cs instanceof PgmCellSet) {
+			((PgmCellSet)cs).setParseBound();
+		}
+	}
+
+	//解析序列函数及列,运算列
 	private Node createMemberNode(ICellSet cs, String id, Context ctx) {
 		if (isNextChar('(')) {
 			int atIdx = id.indexOf(KeyWord.OPTION);
@@ -853,7 +881,7 @@ public class Expression {
 		return new FieldRef(id);
 	}
 
-	// һַǷcַ
+	// 返回下一个字符是否是c，空字符跳过
 	private boolean isNextChar(char c) {
 		int len = expStr.length();
 		for (int i = location; i < len; ++i) {
@@ -925,7 +953,7 @@ public class Expression {
 	}
 
 	/**
-	 * к滻
+	 * 进行宏替换
 	 * @param text String ${macroName}, $(cellName), $(), $C$1, ~$r
 	 * @param cs ICellSet
 	 * @param ctx Context
@@ -943,7 +971,7 @@ public class Expression {
 		int idx = 0;
 		while(idx < len) {
 			char c = text.charAt(idx);
-			// ַе$滻
+			// 字符串中的$不做替换
 			if (c == '\'' || c == '\"') {
 				int match = Sentence.scanQuotation(text, idx);
 				if (match < 0) {
@@ -963,7 +991,7 @@ public class Expression {
 					char nc = text.charAt(last);
 					if (nc == '{') {
 						int match = Sentence.scanBrace(text, last);
-						if (match == -1) { // Ųƥ
+						if (match == -1) { // 括号不匹配
 							MessageManager mm = EngineMessage.get();
 							throw new RQException("{,}" + mm.getMessage("Expression.illMatched"));
 						}
@@ -979,7 +1007,7 @@ public class Expression {
 					} else if (nc == '(') {
 						// $(c)  $()
 						int match = scanParenthesis(text, last);
-						if (match == -1) { // Ųƥ
+						if (match == -1) { // 括号不匹配
 							MessageManager mm = EngineMessage.get();
 							throw new RQException("(,)" + mm.getMessage("Expression.illMatched"));
 						}
@@ -1028,7 +1056,7 @@ public class Expression {
 	}
 	
 	/**
-	 * ıǷ滻
+	 * 返回文本是否包含宏替换
 	 * @param text
 	 * @return
 	 */
@@ -1041,7 +1069,7 @@ public class Expression {
 		int idx = 0;
 		while(idx < len) {
 			char c = text.charAt(idx);
-			// ַе$滻
+			// 字符串中的$不做替换
 			if (c == '\'' || c == '\"') {
 				int match = Sentence.scanQuotation(text, idx);
 				if (match < 0) {
@@ -1062,7 +1090,7 @@ public class Expression {
 					} else if (nc == '(') {
 						// $(c)  $()
 						int match = scanParenthesis(text, last);
-						if (match == -1) { // Ųƥ
+						if (match == -1) { // 括号不匹配
 							return false;
 						} else {
 							idx = match + 1;
@@ -1079,7 +1107,7 @@ public class Expression {
 		return false;
 	}
 
-	// $A$1, #$A$1ȥ$, ʽnull
+	// $A$1, #$A$1去掉$, 如果不是这种形式返回null
 	private static String removeAbsoluteSymbol(String text) {
 		if (text.length() < 3) return null;
 
@@ -1149,14 +1177,14 @@ public class Expression {
 		} else if (obj == null) {
 			return "";
 		} else {
-			// Զתַ
+			// 自动转成字符串
 			return Variant.toString(obj);
 			//MessageManager mm = EngineMessage.get();
 			//throw new RQException(mm.getMessage("Variant2.macroTypeError"));
 		}
 	}
 	
-	/**Ʊʽڶ̼߳
+	/**复制表达式，用于多线程计算
 	 * @param ctx Context
 	 */
 	public Expression newExpression(Context ctx) {
@@ -1168,10 +1196,10 @@ public class Expression {
 	}
 
 	/**
-	 * һƥԲţڵԲűת
-	 * @param str Ҫŵԭ
-	 * @param start  ʼλ,Բԭеλ
-	 * @return ҵ,򷵻ƥԲԭеλ,򷵻-1
+	 * 搜索下一个匹配的圆括号，引号内的圆括号被跳过，不处理转义符
+	 * @param str 需要搜索括号的原串
+	 * @param start  起始位置,即左圆括号在原串中的位置
+	 * @return 若找到,则返回匹配的右圆括号在原串中的位置,否则返回-1
 	 */
 	public static int scanParenthesis(String str, int start) {
 		//if (str.charAt(start) != '(') return -1;
@@ -1218,10 +1246,10 @@ public class Expression {
 	}
 	
 	/**
-	 * жһǷһһ£
-	 * @param obj	жϵ
-	 * @param base	ο
-	 * @return	true	objΪbase
+	 * 判断一个类的类型是否和另外一个类类型一致，或其子类
+	 * @param obj	被判断的类
+	 * @param base	参考类型
+	 * @return	true	obj的类型为base或
 	 */
 	public static boolean ifIs(Object obj, Class<?> base) {
 		if (null == obj)
@@ -1233,12 +1261,12 @@ public class Expression {
 	}
 	
 	/**
-	 * һַеĳ滻Ϊµַ
+	 * 把一个字符串中的某个函数替换为新的字符串
 	 * 
-	 * @param src	Դַ
-	 * @param func	Ҫɾĺ
-	 * @param newStr	滻ַ
-	 * 					ΪnullΪգʾɾ
+	 * @param src	源字符串
+	 * @param func	要被删除的函数名
+	 * @param newStr	替换的新字符串
+	 * 					为null，为空，表示删除
 	 * @return
 	 */
 	public static String replaceFunc(String src, String func, String newStr) {
@@ -1251,11 +1279,11 @@ public class Expression {
 	}
 
 	/**
-	 * ȡòΪο࣬ԲοΪ
+	 * 取得操作符中所有类为参考类，或以参考类为基类的类
 	 * 
-	 * @param op	Ӧ
-	 * @param base	Ҫȡõĺ
-	 * @return	ضӦ
+	 * @param op	对应操作符
+	 * @param base	要取得的函数的类型
+	 * @return	返回对应类数组
 	 */
 	public static ArrayList<Object> getSpecFunc(Operator op, Class<?> base) {
 		
@@ -1287,11 +1315,11 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡúΪο࣬ԲοΪ
+	 * 取得函数中所有类为参考类，或以参考类为基类的类
 	 * 
-	 * @param op	Ӧĺ
-	 * @param base	Ҫȡõĺ
-	 * @return	ضӦ
+	 * @param op	对应的函数
+	 * @param base	要取得的函数的类型
+	 * @return	返回对应类数组
 	 */
 	public static ArrayList<Object> getSpecFunc(Function fun, Class<?> base) {
 		
@@ -1342,11 +1370,11 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡòΪο࣬ԲοΪ
+	 * 取得参数中所有类为参考类，或以参考类为基类的类
 	 * 
-	 * @param param	ӦĲ
-	 * @param base	Ҫȡõĺ
-	 * @return	ضӦ
+	 * @param param	对应的参数
+	 * @param base	要取得的函数的类型
+	 * @return	返回对应类数组
 	 */
 	public static ArrayList<Object> getSpecFunc(IParam param, Class<?> base) {
 		ArrayList<Object> funcs = new ArrayList<Object>();
@@ -1376,13 +1404,13 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡñʽΪο࣬ԲοΪ
+	 * 取得表达式中所有类为参考类，或以参考类为基类的类
 	 * 
-	 * @param op	Ӧ
-	 * @param type	Ҫȡõĺ
-	 * 		1-- ΪGather
-	 * 		2-- ΪGatherEx
-	 * @return	ضӦ
+	 * @param op	对应操作符
+	 * @param type	要取得的函数的类型
+	 * 		1-- 基类为Gather的类
+	 * 		2-- 基类为GatherEx的类
+	 * @return	返回对应类数组
 	 */
 	public static ArrayList<Object> getSpecFunc(Expression exp, Class<?> base) {
 		
@@ -1404,30 +1432,30 @@ public class Expression {
 	
 
 	/**
-	 * жʽַǷȼ
-	 * 		ַȫͬһȼۡ
-	 * 		˫ź͵ڵĿոɺ
-	 * 	úûпתֻڴԹĳϣĿǽ90%⡣
-	 * @param exp1	һʽ
-	 * @param exp2      ڶʽ
-	 * @return	true	ʽȼ
-	 * 			false	ʽȼ
+	 * 判断两个表达式字符串是否等价
+	 * 		若字符串完全相同，则一定等价。
+	 * 		除了双引号和单引号内的空格可忽略
+	 * 	该函数没有考虑转义符等特殊的情况，只用于粗略估算的场合，目标是解决90%的问题。
+	 * @param exp1	第一个表达式
+	 * @param exp2      第二个表达式
+	 * @return	true	两个表达式等价
+	 * 			false	两个表达式不等价
 	 */
 	public static boolean sameExpression(String exp1, String exp2) {
-	    /** ַ1**/
+	    /** 字符串1长度**/
 		int len = exp1.length();
-		/** Աȵַ2λ **/
+		/** 对比到得字符串2得位置 **/
 	    int set = 0;
-	    /** ǷڽڵöԱ **/
+	    /** 是否在进行引号内得对比 **/
 	    boolean bstr = false;
 	    for (int i = 0; i < len; i++) {
 	    	char ch1 = exp1.charAt(i);
 	    	char ch2 = exp2.charAt(set);
-	    	// exp1ո
+	    	// 跳过exp1空格
 	    	if (!bstr && ' ' == ch1)
 	    		continue;
 	    	
-	    	// exp2ո
+	    	// 跳过exp2空格
 	    	if (!bstr && ' ' == ch2) {
 	    		while (' ' == ch2) {
 	    			set++;
@@ -1435,11 +1463,11 @@ public class Expression {
 	    		}
 	    	}
 	    	
-	    	// Ƚ
+	    	// 其它比较
 	    	if (ch1 != ch2)
 	    		return false;
 	    	
-	    	// ű
+	    	// 设置引号标记
 	    	if ('\"' == ch1 || '\'' == ch1) {
 	    		bstr = !bstr;
 	    	}
@@ -1447,9 +1475,9 @@ public class Expression {
 		return true;
 	}
 	/**
-	 * ȡòµľۺϺ
+	 * 取得操作符及其下的聚合函数
 	 * 
-	 * @param op	Ӧ
+	 * @param op	对应操作符
 	 * @return
 	 */
 	public static ArrayList<String> gatherParam(Operator op) {
@@ -1484,7 +1512,7 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡúлΪGatherĺеġ
+	 * 取得函数中所有基类为Gather的函数，包括参数中的。
 	 * @param fun
 	 * @return
 	 */
@@ -1539,7 +1567,7 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡòµľۺϺ
+	 * 取得参数下的聚合函数
 	 * @param par	
 	 * @return
 	 */
@@ -1573,7 +1601,7 @@ public class Expression {
 	}
 	
 	/**
-	 * ȡñʽлΪGatherĺеġ
+	 * 取得表达式的所有基类为Gather的函数，包括函数中的。
 	 * @param exp
 	 * @return
 	 */
@@ -1596,8 +1624,8 @@ public class Expression {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -1619,7 +1647,7 @@ public class Expression {
 		}
 	}
 	/**
-	 * жǷԼȫֵиֵʱֻһм
+	 * 判断是否可以计算全部的值，有赋值运算时只能一行行计算
 	 * @return
 	 */
 	public boolean canCalculateAll() {
@@ -1627,8 +1655,8 @@ public class Expression {
 	}
 	
 	/**
-	 * ʽȡֵΧ
-	 * @param ctx 
+	 * 计算表达式的取值范围
+	 * @param ctx 计算上行文
 	 * @return
 	 */
 	public IArray calculateRange(Context ctx) {
@@ -1636,18 +1664,18 @@ public class Expression {
 	}
 	
 	/**
-	 * жϸֵΧǷ㵱ǰʽ
-	 * @param ctx 
-	 * @return ȡֵRelation. -1ֵΧûֵ0ֵΧֵ1ֵΧֵ
+	 * 判断给定的值域范围是否满足当前条件表达式
+	 * @param ctx 计算上行文
+	 * @return 取值参照Relation. -1：值域范围内没有满足条件的值，0：值域范围内有满足条件的值，1：值域范围的值都满足条件
 	 */
 	public int isValueRangeMatch(Context ctx) {
 		return home.isValueRangeMatch(ctx);
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return
 	 */
 	public IArray calculateAnd(Context ctx, IArray leftResult) {
@@ -1659,10 +1687,10 @@ public class Expression {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -1670,8 +1698,8 @@ public class Expression {
 	}
 
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return home.isMonotone();
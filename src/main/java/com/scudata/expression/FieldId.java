@@ -17,7 +17,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ŵķʽü¼ֶ
+ * 用序号的方式引用记录的字段
  * #1 r.#1 A.#1
  * @author WangXiaoJun
  *
@@ -26,7 +26,7 @@ public class FieldId extends Node {
 	private Object src;
 	private int index;
 
-	private Node left; // ڵ	
+	private Node left; // 点操作符的左侧节点	
 
 	public FieldId(String id) {
 		index = KeyWord.getFiledId(id) - 1;
@@ -37,7 +37,7 @@ public class FieldId extends Node {
 	}
 	
 	/**
-	 * ȡڵڵ㣬ûзؿ
+	 * 取节点的左侧节点，没有返回空
 	 * @return Node
 	 */
 	public Node getLeft() {
@@ -45,8 +45,8 @@ public class FieldId extends Node {
 	}
 
 	/**
-	 * ýڵڵ
-	 * @param node ڵ
+	 * 设置节点的左侧节点
+	 * @param node 节点
 	 */
 	public void setLeft(Node node) {
 		left = node;
@@ -87,10 +87,10 @@ public class FieldId extends Node {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -98,9 +98,9 @@ public class FieldId extends Node {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -117,8 +117,8 @@ public class FieldId extends Node {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -163,7 +163,7 @@ public class FieldId extends Node {
 					if (n > 0) {
 						cur = sequence.getMem(n);
 						if (cur instanceof Sequence) {
-							// ǰԪȡһԪ
+							// 如果当前元素是序列则取其第一个元素
 							if (((Sequence)cur).length() > 0) {
 								cur = ((Sequence)cur).getMem(1);
 							} else {
@@ -207,7 +207,7 @@ public class FieldId extends Node {
 					if (n > 0) {
 						cur = sequence.getMem(n);
 						if (cur instanceof Sequence) {
-							// ǰԪȡһԪ
+							// 如果当前元素是序列则取其第一个元素
 							if (((Sequence)cur).length() > 0) {
 								cur = ((Sequence)cur).getMem(1);
 							} else {
@@ -241,7 +241,7 @@ public class FieldId extends Node {
 		}
 	}
 
-	// '=' ֶνиֵ
+	// '=' 对字段进行赋值
 	public Object assign(Object value, Context ctx) {
 		if (src == null) { // #1
 			ComputeStack stack = ctx.getComputeStack();
@@ -252,7 +252,7 @@ public class FieldId extends Node {
 			} else if (obj == null) {
 				return value;
 			} else if (obj instanceof Sequence) {
-				// ǰԪȡһԪ
+				// 如果当前元素是序列则取其第一个元素
 				if (((Sequence)obj).length() == 0) {
 					return value;
 				}
@@ -278,7 +278,7 @@ public class FieldId extends Node {
 				} else if (obj == null) {
 					return value;
 				} else if (obj instanceof Sequence) {
-					// ǰԪȡһԪ
+					// 如果当前元素是序列则取其第一个元素
 					if (((Sequence)obj).length() == 0) {
 						return value;
 					}
@@ -305,7 +305,7 @@ public class FieldId extends Node {
 		}
 	}
 	
-	// '+=' ֶνиֵ
+	// '+=' 对字段进行赋值
 	public Object addAssign(Object value, Context ctx) {
 		if (src == null) { // #1
 			ComputeStack stack = ctx.getComputeStack();
@@ -318,7 +318,7 @@ public class FieldId extends Node {
 			} else if (obj == null) {
 				return value;
 			} else if (obj instanceof Sequence) {
-				// ǰԪȡһԪ
+				// 如果当前元素是序列则取其第一个元素
 				if (((Sequence)obj).length() == 0) {
 					return value;
 				}
@@ -348,7 +348,7 @@ public class FieldId extends Node {
 				} else if (obj == null) {
 					return value;
 				} else if (obj instanceof Sequence) {
-					// ǰԪȡһԪ
+					// 如果当前元素是序列则取其第一个元素
 					if (((Sequence)obj).length() == 0) {
 						return value;
 					}
@@ -525,8 +525,8 @@ public class FieldId extends Node {
 	}
 	
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return true;
@@ -20,25 +20,25 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ֶ
+ * 字段引用
  * A.f r.f ~.f
  * @author WangXiaoJun
  *
  */
 public class FieldRef extends Node {
 	protected String name;
-	protected Object s2r; // л¼
-	protected int col; // ֶ
+	protected Object s2r; // 序列或记录
+	protected int col; // 字段索引
 	protected DataStruct prevDs;
 
-	private Node left; // ڵ	
+	private Node left; // 点操作符的左侧节点	
 
 	public FieldRef(String fieldName) {
 		name = fieldName;
 	}
 
 	/**
-	 * ȡڵڵ㣬ûзؿ
+	 * 取节点的左侧节点，没有返回空
 	 * @return Node
 	 */
 	public Node getLeft() {
@@ -46,8 +46,8 @@ public class FieldRef extends Node {
 	}
 
 	/**
-	 * ýڵڵ
-	 * @param node ڵ
+	 * 设置节点的左侧节点
+	 * @param node 节点
 	 */
 	public void setLeft(Node node) {
 		left = node;
@@ -74,7 +74,7 @@ public class FieldRef extends Node {
 			ComputeStack stack = ctx.getComputeStack();
 			Object obj = stack.getCurrentValue((Sequence)s2r);
 
-			// ǰԪȡһԪ
+			// 如果当前元素是序列则取其第一个元素
 			if (obj instanceof Sequence) {
 				if (((Sequence)obj).length() == 0) {
 					return null;
@@ -96,7 +96,7 @@ public class FieldRef extends Node {
 
 				return cur.getNormalFieldValue(col);
 			} else if (obj == null) {
-				// һǷֶΣֹT.f(...)дͳȡfĳԱ
+				// 检查一下是否是序表的字段，防止T.f(...)写错函数名解释成取f的成员了
 				if (s2r instanceof Table) {
 					col = ((Table)s2r).dataStruct().getFieldIndex(name);
 					if (col < 0) {
@@ -128,10 +128,10 @@ public class FieldRef extends Node {
 		}
 	}
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -139,9 +139,9 @@ public class FieldRef extends Node {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -171,7 +171,7 @@ public class FieldRef extends Node {
 			if (n > 0) {
 				leftObj = sequence.getMem(n);
 				if (leftObj instanceof Sequence) {
-					// ǰԪȡһԪ
+					// 如果当前元素是序列则取其第一个元素
 					if (((Sequence)leftObj).length() > 0) {
 						leftObj = ((Sequence)leftObj).getMem(1);
 					} else {
@@ -223,8 +223,8 @@ public class FieldRef extends Node {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -242,7 +242,7 @@ public class FieldRef extends Node {
 			return getField(leftObj, ctx);
 		}
 
-		// ʽfk.fA.f
+		// 可能是外键式引用fk.f或A.f
 		int len = leftArray.size();
 		Object src = leftArray.get(1);
 		IArray result;
@@ -295,7 +295,7 @@ public class FieldRef extends Node {
 				}
 			}
 		} else {
-			// 
+			// 纯序表
 			for (int i = 1; i <= len; ++i) {
 				src = leftArray.get(i);
 				if (src instanceof BaseRecord) {
@@ -314,7 +314,7 @@ public class FieldRef extends Node {
 		return result;
 	}
 	
-	// '=' ֶνиֵ
+	// '=' 对字段进行赋值
 	public Object assign(Object value, Context ctx) {
 		if (s2r instanceof Sequence) {
 			ComputeStack stack = ctx.getComputeStack();
@@ -357,7 +357,7 @@ public class FieldRef extends Node {
 		return value;
 	}
 
-	// '+=' ֶνиֵ
+	// '+=' 对字段进行赋值
 	public Object addAssign(Object value, Context ctx) {
 		if (s2r instanceof Sequence) {
 			ComputeStack stack = ctx.getComputeStack();
@@ -498,8 +498,8 @@ public class FieldRef extends Node {
 	}
 	
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return true;
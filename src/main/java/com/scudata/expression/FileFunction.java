@@ -3,7 +3,7 @@ package com.scudata.expression;
 import com.scudata.dm.FileObject;
 
 /**
- * ļԱ
+ * 文件成员函数基类
  * file.f()
  * @author RunQian
  *
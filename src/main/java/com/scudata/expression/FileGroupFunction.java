@@ -3,7 +3,7 @@ package com.scudata.expression;
 import com.scudata.dm.FileGroup;
 
 /**
- * ļԱ
+ * 文件组成员函数基类
  * fg.f()
  * @author RunQian
  *
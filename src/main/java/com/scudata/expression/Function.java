@@ -11,24 +11,24 @@ import com.scudata.dm.ParamList;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ڵ
+ * 函数节点基类
  * @author WangXiaoJun
  *
  */
 public abstract class Function extends Node {
-	protected String functionName; // 
-	protected String option; // ѡ
-	protected String strParam; // ַڼȺѲַڵ
-	protected IParam param; // 
+	protected String functionName; // 函数名
+	protected String option; // 选项
+	protected String strParam; // 函数参数字符串，用于集群函数把参数字符串传到节点机
+	protected IParam param; // 函数参数
 
-	protected ICellSet cs = null; // 
+	protected ICellSet cs = null; // 网格对象
 	protected static final int Default_Size = 4;
 
 	/**
-	 * ú
-	 * @param cs 
-	 * @param ctx 
-	 * @param param ַ
+	 * 设置函数参数
+	 * @param cs 网格对象
+	 * @param ctx 计算上下文
+	 * @param param 函数参数字符串
 	 */
 	public void setParameter(ICellSet cs, Context ctx, String param) {
 		strParam = param;
@@ -37,7 +37,7 @@ public abstract class Function extends Node {
 	}
 
 	/**
-	 * ȡַ
+	 * 取函数参数字符串
 	 * @return
 	 */
 	public String getParamString() {
@@ -45,7 +45,7 @@ public abstract class Function extends Node {
 	}
 	
 	/**
-	 * ȡ
+	 * 取函数名
 	 * @return String
 	 */
 	public String getFunctionName() {
@@ -53,15 +53,15 @@ public abstract class Function extends Node {
 	}
 	
 	 /**
-	  * ú
-	  * @param name 
+	  * 设置函数名
+	  * @param name 函数名
 	  */
 	public void setFunctionName(String name) {
 		this.functionName = name;
 	}
 	
 	/**
-	 * غ
+	 * 返回函数参数
 	 * @return IParam
 	 */
 	public IParam getParam() {
@@ -69,23 +69,23 @@ public abstract class Function extends Node {
 	}
 
 	/**
-	 * ú
-	 * @param param 
+	 * 设置函数参数
+	 * @param param 参数
 	 */
 	public void setParam(IParam param) {
 		this.param = param;
 	}
 
 	/**
-	 * úѡ
-	 * @param opt ѡ
+	 * 设置函数选项
+	 * @param opt 选项
 	 */
 	public void setOption(String opt) {
 		option = opt;
 	}
 
 	/**
-	 * ȡѡ
+	 * 取函数选项
 	 * @return String
 	 */
 	public String getOption() {
@@ -93,9 +93,9 @@ public abstract class Function extends Node {
 	}
 
 	/**
-	 * Ƿָ
-	 * @param name 
-	 * @return boolean truefalse
+	 * 返回是否包含指定参数
+	 * @param name 参数名
+	 * @return boolean true：包含，false：不包含
 	 */
 	protected boolean containParam(String name) {
 		if (param != null) {
@@ -105,10 +105,24 @@ public abstract class Function extends Node {
 		}
 	}
 
+	protected boolean containMutableConstant() {
+		if (param != null) {
+			return param.containMutableConstant();
+		} else {
+			return false;
+		}
+	}
+
+	protected void resetState() {
+		if (param != null) {
+			param.resetState();
+		}
+	}
+
 	/**
-	 * ұʽõ
-	 * @param ctx 
-	 * @param resultList ֵõĲӵ
+	 * 查找表达式中用到参数
+	 * @param ctx 计算上下文
+	 * @param resultList 输出值，用到的参数会添加到这里面
 	 */
 	protected void getUsedParams(Context ctx, ParamList resultList) {
 		if (param != null) {
@@ -129,19 +143,19 @@ public abstract class Function extends Node {
 	}
 
 	/**
-	 * ԽڵŻ
-	 * @param ctx 
-	 * @param Node ŻĽڵ
+	 * 对节点做优化
+	 * @param ctx 计算上下文
+	 * @param Node 优化后的节点
 	 */
 	public Node optimize(Context ctx) {
 		boolean opt = true;
 		if (param != null) {
-			// ԲŻ
+			// 对参数做优化
 			opt = param.optimize(ctx);
 		}
 
-		// ǳֵ
-		// 뱻ŻɳҪش˷
+		// 如果函数参数是常量则计算出函数值
+		// 如果派生函数不想被优化成常量需要重载此方法
 		if (opt) {
 			return new Constant(calculate(ctx));
 		} else {
@@ -182,8 +196,8 @@ public abstract class Function extends Node {
 	}
 	
 	/**
-	 * ȡһַ
-	 * @return	ַ
+	 * 取得一个函数和其参数的完整字符串
+	 * @return	字符串
 	 */
 	public String getFunctionString() {
 		String strRes = this.getFunctionName();
@@ -199,16 +213,16 @@ public abstract class Function extends Node {
 	}
 
 	/**
-	 * жϽڵǷָ
-	 * @param name 
-	 * @return trueָfalse
+	 * 判断节点是否是指定函数
+	 * @param name 函数名
+	 * @return true：是指定函数，false：不是
 	 */
 	public boolean isFunction(String name) {
 		return name.equals(functionName);
 	}
 	
 	/**
-	 * жǷԼȫֵиֵʱֻһм
+	 * 判断是否可以计算全部的值，有赋值运算时只能一行行计算
 	 * @return
 	 */
 	public boolean canCalculateAll() {
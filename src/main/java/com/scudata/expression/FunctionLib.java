@@ -22,15 +22,15 @@ import com.scudata.expression.operator.DotOperator;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ⣬ϵͳļغͲ
+ * 函数库，用于系统函数的加载和查找
  * @author RunQian
  *
  */
 public final class FunctionLib {
-	// ͬԱ
+	// 用于链接同名成员函数的类对象
 	private static class ClassLink {
-		Class<? extends MemberFunction> fnClass; // Ա
-		ClassLink next; // һͬĳԱ
+		Class<? extends MemberFunction> fnClass; // 成员函数类对象
+		ClassLink next; // 下一个同名的成员函数类对象
 		
 		ClassLink(Class<? extends MemberFunction> fnClass) {
 			this.fnClass = fnClass;
@@ -48,61 +48,61 @@ public final class FunctionLib {
 		}
 	}
 	
-	// ȫֺӳ
+	// 全局函数映射表
 	private static HashMap<String, Class<? extends Function>> fnMap = 
 		new HashMap<String, Class<? extends Function>>(256);
 	
-	// Աӳ
+	// 成员函数映射表
 	private static HashMap<String, ClassLink> mfnMap = new HashMap<String, ClassLink>(256);
 	
-	// ӳ[,·]
+	// 程序网格函数映射表，[函数名,程序网路径名]
 	private static HashMap<String, String> dfxFnMap = new HashMap<String, String>(256);
 	
 	private FunctionLib() {
 	}
 
 	static {
-		// Զ庯Զأṩϲ
+		// 自定义函数不再自动加载，提供函数让上层设置
 		loadSystemFunctions();
 	}
 
 	/**
-	 * ӳ
-	 * @param fnName 
-	 * @param dfxPathName ·
+	 * 添加程序网函数
+	 * @param fnName 函数名
+	 * @param dfxPathName 程序网路径名
 	 */
 	public static void addDFXFunction(String fnName, String dfxPathName) {
-		// ȫֺ
+		// 不能与全局函数重名
 		if (fnMap.containsKey(fnName)) {// || dfxFnMap.containsKey(fnName)
 			MessageManager mm = EngineMessage.get();
 			throw new RuntimeException(mm.getMessage("FunctionLib.repeatedFunction") + fnName);
 		}
 		
-		// º滻ɵ
+		// 用新函数替换旧的
 		dfxFnMap.put(fnName, dfxPathName);
 	}
 	
 	/**
-	 * ɾ
-	 * @param fnName 
+	 * 删除程序网函数
+	 * @param fnName 函数名
 	 */
 	public static void removeDFXFunction(String fnName) {
 		dfxFnMap.remove(fnName);
 	}
 	
 	/**
-	 * ݺȡ
-	 * @param fnName 
-	 * @return ·
+	 * 根据函数名取程序网
+	 * @param fnName 函数名
+	 * @return 程序网路径名
 	 */
 	public static String getDFXFunction(String fnName) {
 		return dfxFnMap.get(fnName);
 	}
 	
 	/**
-	 * ȫֺ
-	 * @param fnName 
-	 * @param className 
+	 * 添加全局函数
+	 * @param fnName 函数名
+	 * @param className 类名（包含包名）
 	 */
 	public static void addFunction(String fnName, String className) {
 		try {
@@ -119,9 +119,9 @@ public final class FunctionLib {
 	}
 	
 	/**
-	 * ȫֺ쳣
-	 * @param fnName 
-	 * @param funClass 
+	 * 添加全局函数，重名抛异常
+	 * @param fnName 函数名
+	 * @param funClass 类对象
 	 */
 	public static void addFunction(String fnName, Class<? extends Function> funClass) {
 		if (fnMap.containsKey(fnName)) {
@@ -133,10 +133,10 @@ public final class FunctionLib {
 	}
 	
 	/**
-	 * ȫֺ滻Ķ
-	 * @param fnName 
-	 * @param funClass 
-	 * @param replace true滻falseĶ
+	 * 添加全局函数，重名替换或不做改动
+	 * @param fnName 函数名
+	 * @param funClass 类对象
+	 * @param replace true：重名替换，false：重名不做改动
 	 */
 	public static void addFunction(String fnName, String className, boolean replace) {
 		if (replace || !fnMap.containsKey(fnName)) {
@@ -150,18 +150,35 @@ public final class FunctionLib {
 	}
 	
 	/**
-	 * жϱʶǷȫֺ
-	 * @param id ʶ
-	 * @return trueȫֺfalseȫֺ
+	 * 判断标识符是否是全局函数名
+	 * @param id 标识符
+	 * @return true：是全局函数名，false：不是全局函数名
 	 */
 	public static boolean isFnName(String id) {
 		return fnMap.containsKey(id);
 	}
 
 	/**
-	 * ɺȫֺ
-	 * @param fnName 
-	 * @return Ӧȫֺ
+	 * 取全局函数名对应的类对象
+	 * @param fnName 函数名
+	 * @return 类对象，不是全局函数名时返回空
+	 */
+	public static Class<? extends Function> getFunctionClass(String fnName) {
+		return fnMap.get(fnName);
+	}
+	
+	/**
+	 * 取所有的全局函数名
+	 * @return 函数名列表
+	 */
+	public static ArrayList<String> getFunctionNames() {
+		return new ArrayList<String>(fnMap.keySet());
+	}
+
+	/**
+	 * 由函数名创建全局函数
+	 * @param fnName 函数名
+	 * @return 函数名对应的全局函数
 	 */
 	public static Function newFunction(String fnName) {
 		try {
@@ -177,9 +194,9 @@ public final class FunctionLib {
 	}
 
 	/**
-	 * ӳԱ
-	 * @param fnName Ա
-	 * @param className 
+	 * 添加成员函数
+	 * @param fnName 成员函数名
+	 * @param className 类名（包含包名）
 	 */
 	public static void addMemberFunction(String fnName, String className) {
 		try {
@@ -191,9 +208,9 @@ public final class FunctionLib {
 	}
 
 	/**
-	 * ӳԱ
-	 * @param fnName Ա
-	 * @param fnClass 
+	 * 添加成员函数
+	 * @param fnName 成员函数名
+	 * @param fnClass 类对象
 	 */
 	public static void addMemberFunction(String fnName, Class<? extends MemberFunction> fnClass) {
 		ClassLink prev = mfnMap.get(fnName);
@@ -210,18 +227,18 @@ public final class FunctionLib {
 	}
 	
 	/**
-	 * жϱʶǷǳԱ
-	 * @param id ʶ
-	 * @return trueǳԱfalseǳԱ
+	 * 判断标识符是否是成员函数名
+	 * @param id 标识符
+	 * @return true：是成员函数名，false：不是成员函数名
 	 */
 	public static boolean isMemberFnName(String id) {
 		return mfnMap.containsKey(id);
 	}
 
 	/**
-	 * ɺԱ
-	 * @param fnName 
-	 * @return ӦĳԱ
+	 * 由函数名创建成员函数
+	 * @param fnName 函数名
+	 * @return 函数名对应的成员函数
 	 */
 	public static MemberFunction newMemberFunction(String fnName) {
 		try {
@@ -234,9 +251,9 @@ public final class FunctionLib {
 		}
 	}
 	
-	// ϵͳ
+	// 加载系统函数
 	private static void loadSystemFunctions() {
-		// ȫֺ
+		// 全局函数
 		addFunction("between", "com.scudata.expression.fn.Between");
 		addFunction("case", "com.scudata.expression.fn.Case");
 		addFunction("cmp", "com.scudata.expression.fn.Compare");
@@ -291,7 +308,7 @@ public final class FunctionLib {
 		addFunction("pseudo", "com.scudata.expression.fn.CreatePseudo");
 		addFunction("splserver", "com.scudata.expression.fn.SplServer");
 		
-		// 
+		// 并行
 		addFunction("callx", "com.scudata.expression.fn.parallel.Callx");
 		addFunction("hosts", "com.scudata.expression.fn.parallel.Hosts");
 		addFunction("syncfile", "com.scudata.expression.fn.parallel.SyncFile");
@@ -374,7 +391,7 @@ public final class FunctionLib {
 		addMemberFunction("r", "com.scudata.expression.mfn.RowField");
 		addMemberFunction("median", "com.scudata.expression.mfn.sequence.Median");
 		
-		// ޸
+		// 修改
 		addMemberFunction("modify", "com.scudata.expression.mfn.sequence.Modify");
 		addMemberFunction("modify", "com.scudata.expression.mfn.record.Modify");
 		addMemberFunction("reset", "com.scudata.expression.mfn.sequence.Reset");
@@ -389,7 +406,7 @@ public final class FunctionLib {
 		addMemberFunction("rename", "com.scudata.expression.mfn.vdb.Rename");
 		addMemberFunction("alter", "com.scudata.expression.mfn.table.Alter");
 
-		// 
+		// 产生
 		addMemberFunction("create", "com.scudata.expression.mfn.sequence.Create");
 		addMemberFunction("create", "com.scudata.expression.mfn.record.Create");
 		addMemberFunction("new", "com.scudata.expression.mfn.sequence.New");
@@ -412,7 +429,7 @@ public final class FunctionLib {
 		addMemberFunction("find", "com.scudata.expression.mfn.sequence.Find");
 		addMemberFunction("v", "com.scudata.expression.mfn.Value");
 
-		// ӳ
+		// 映射
 		addMemberFunction("key", "com.scudata.expression.mfn.record.Key");
 		addMemberFunction("keys", "com.scudata.expression.mfn.table.Keys");
 		addMemberFunction("switch", "com.scudata.expression.mfn.sequence.SwitchFK");
@@ -428,7 +445,7 @@ public final class FunctionLib {
 		addMemberFunction("regex", "com.scudata.expression.mfn.op.AttachRegex");
 		addMemberFunction("concat", "com.scudata.expression.mfn.sequence.Concat");
 
-		// 򵥴洢
+		// 简单存储
 		addFunction("filename", "com.scudata.expression.fn.FileName");
 		addFunction("directory", "com.scudata.expression.fn.Directory");
 		addFunction("file", "com.scudata.expression.fn.CreateFile");
@@ -467,7 +484,7 @@ public final class FunctionLib {
 		addMemberFunction("htmlparse", "com.scudata.expression.mfn.string.HTMLParse");
 		addMemberFunction("close", "com.scudata.expression.mfn.Close");
 		
-		// ݿ
+		// 数据库
 		addFunction("connect", "com.scudata.expression.fn.Connect");
 		addMemberFunction("commit", "com.scudata.expression.mfn.db.Commit");
 		addMemberFunction("rollback", "com.scudata.expression.mfn.db.Rollback");
@@ -482,7 +499,7 @@ public final class FunctionLib {
 		addMemberFunction("isolate", "com.scudata.expression.mfn.db.Isolate");
 		addMemberFunction("savepoint", "com.scudata.expression.mfn.db.SavePoint");
 		
-		// ݲֿ
+		// 数据仓库
 		addFunction("vdbase", "com.scudata.expression.fn.VDBase");
 		addMemberFunction("begin", "com.scudata.expression.mfn.vdb.Begin");
 		addMemberFunction("commit", "com.scudata.expression.mfn.vdb.Commit");
@@ -504,7 +521,7 @@ public final class FunctionLib {
 		addMemberFunction("purge", "com.scudata.expression.mfn.vdb.Purge");
 		addMemberFunction("copy", "com.scudata.expression.mfn.vdb.Copy");
 		
-		// α
+		// 游标
 		addMemberFunction("cursor", "com.scudata.expression.mfn.db.CreateCursor");
 		addMemberFunction("cursor", "com.scudata.expression.mfn.file.CreateCursor");
 		addMemberFunction("cursor", "com.scudata.expression.mfn.sequence.CreateCursor");
@@ -538,7 +555,7 @@ public final class FunctionLib {
 		addMemberFunction("push", "com.scudata.expression.mfn.op.AttachPush");
 		addMemberFunction("result", "com.scudata.expression.mfn.channel.Result");
 		
-		// ֿ
+		// 仓库
 		addFunction("memory", "com.scudata.expression.fn.parallel.Memory");
 		addMemberFunction("row", "com.scudata.expression.mfn.TableRow");
 		addMemberFunction("dup", "com.scudata.expression.mfn.table.Dup");
@@ -572,7 +589,7 @@ public final class FunctionLib {
 		addMemberFunction("structure", "com.scudata.expression.mfn.file.Structure");
 		addMemberFunction("structure", "com.scudata.expression.mfn.file.FileGroupStructure");
 		
-		//
+		//虚表
 		addMemberFunction("import", "com.scudata.expression.mfn.pseudo.Import");
 		addMemberFunction("memory", "com.scudata.expression.mfn.pseudo.Memory");
 		addMemberFunction("cursor", "com.scudata.expression.mfn.pseudo.CreateCursor");
@@ -581,7 +598,7 @@ public final class FunctionLib {
 		addMemberFunction("delete", "com.scudata.expression.mfn.pseudo.Delete");
 		addMemberFunction("groups", "com.scudata.expression.mfn.pseudo.Groups");
 		
-		//Ⱥ
+		//集群
 		addMemberFunction("create", "com.scudata.expression.mfn.cluster.Create");
 		addMemberFunction("open", "com.scudata.expression.mfn.cluster.Open");
 		addMemberFunction("append", "com.scudata.expression.mfn.cluster.Append");
@@ -601,13 +618,13 @@ public final class FunctionLib {
 		addMemberFunction("icursor", "com.scudata.expression.mfn.cluster.Icursor");
 		addMemberFunction("cgroups", "com.scudata.expression.mfn.cluster.Cgroups");
 		
-		// ͳͼ
+		// 统计图
 		addFunction("canvas", "com.scudata.expression.fn.CreateCanvas");
 		addMemberFunction("plot", "com.scudata.expression.mfn.canvas.Plot");
 		addMemberFunction("draw", "com.scudata.expression.mfn.canvas.Draw");
 		addMemberFunction("hlink", "com.scudata.expression.mfn.canvas.HLink");
 
-		// ʱں
+		// 时间日期函数
 		addFunction("age", "com.scudata.expression.fn.datetime.Age");
 		addFunction("datetime", "com.scudata.expression.fn.datetime.DateTime");
 		addFunction("day", "com.scudata.expression.fn.datetime.Day");
@@ -629,7 +646,7 @@ public final class FunctionLib {
 		addFunction("workday", "com.scudata.expression.fn.datetime.WorkDay");
 		addFunction("workdays", "com.scudata.expression.fn.datetime.WorkDays");
 
-		// ѧ
+		// 数学函数
 		addFunction("abs", "com.scudata.expression.fn.math.Abs");
 		addFunction("and","com.scudata.expression.fn.math.And");
 		addFunction("acos", "com.scudata.expression.fn.math.Arccos");
@@ -673,7 +690,7 @@ public final class FunctionLib {
 		addFunction("tanh", "com.scudata.expression.fn.math.Tanh");
 		addFunction("xor","com.scudata.expression.fn.math.Xor");
 		
-		// ַ
+		// 字符串函数
 		addFunction("fill", "com.scudata.expression.fn.string.Fill");
 		addFunction("left", "com.scudata.expression.fn.string.Left");
 		addFunction("len", "com.scudata.expression.fn.string.Len");
@@ -700,7 +717,7 @@ public final class FunctionLib {
 		addMemberFunction("sqltranslate", "com.scudata.expression.mfn.string.SQLTranslate");
 		addMemberFunction("sbs", "com.scudata.expression.mfn.string.Sbs");
 
-		// ת
+		// 类型转换函数
 		addFunction("ifv", "com.scudata.expression.fn.convert.IfVariable");
 		addFunction("ifa", "com.scudata.expression.fn.convert.IfSequence");
 		addFunction("ifr", "com.scudata.expression.fn.convert.IfRecord");
@@ -773,7 +790,7 @@ public final class FunctionLib {
 	}
 
 	/**
-	 * Զ庯
+	 * 加载自定义函数
 	 * @param fileName String
 	 */
 	public static void loadCustomFunctions(String fileName) {
@@ -797,8 +814,8 @@ public final class FunctionLib {
 	}
 
 	/**
-	 * û庯
-	 * @param is 
+	 * 加载用户定义函数
+	 * @param is 输入流
 	 */
 	public static void loadCustomFunctions(InputStream is) {
 		try {
@@ -839,7 +856,7 @@ public final class FunctionLib {
 			String clsName = value.substring(pos + 1, value.length()).trim();
 
 			if (type.equals("0")) {
-				// ȫֺ
+				// 全局函数不允许重名
 				if (fnMap.containsKey(key)) {
 					MessageManager mm = EngineMessage.get();
 					throw new RuntimeException(mm.getMessage("FunctionLib.repeatedFunction") + key);
@@ -848,7 +865,7 @@ public final class FunctionLib {
 				Class<? extends Function> cls = (Class<? extends Function>)loader.loadClass(clsName);
 				m0.put(key, cls);
 			} else if (type.equals("1")) {
-				// Ա
+				// 成员函数可以重名
 				Class<? extends MemberFunction> cls = (Class<? extends MemberFunction>)loader.loadClass(clsName);
 				mfnNames.add(key);
 				mfns.add(cls);
@@ -862,8 +879,8 @@ public final class FunctionLib {
 	}
 	
 	/**
-	 * װⲿ
-	 * @param path ⲿļ
+	 * 装载外部库
+	 * @param path 外部库配置文件
 	 */
 	public static void loadExtLibrary(File path){
 		File[] fs = path.listFiles();
@@ -879,7 +896,7 @@ public final class FunctionLib {
 			}
 		}
 		
-		//loaderûָ
+		//loader没指定父
 		URLClassLoader loader = new URLClassLoader(list.toArray(new URL[]{}), FunctionLib.class.getClassLoader());
 		Pattern p = Pattern.compile("com/scudata/lib/(\\w+)/functions.properties");
 		
@@ -911,13 +928,13 @@ public final class FunctionLib {
 	}
 	
 	/**
-	 * ָԱ
-	 * @param leftValue 
-	 * @param fnName 
-	 * @param param 
-	 * @param option ѡ
-	 * @param ctx 
-	 * @return 
+	 * 计算指定成员函数
+	 * @param leftValue 左侧对象
+	 * @param fnName 函数名
+	 * @param param 函数参数
+	 * @param option 函数选项
+	 * @param ctx 计算上下文
+	 * @return 计算结果
 	 */
 	public static Object executeMemberFunction(Object leftValue, String fnName, String param, String option, Context ctx) {
 		MemberFunction fn = FunctionLib.newMemberFunction(fnName);
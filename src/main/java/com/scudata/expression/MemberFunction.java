@@ -13,37 +13,37 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * Ա࣬ԱʵҪ̳Դ
+ * 成员函数基类，成员函数的实现类需要继承自此类
  * @author WangXiaoJun
  *
  */
 public abstract class MemberFunction extends Function {
-	private MemberFunction next; // һͬĳԱ
-	protected Node left; // ڵ
+	private MemberFunction next; // 下一个同名的成员函数类
+	protected Node left; // 点操作符的左侧节点
 	
 	/**
-	 * жϵĺǷƥ
-	 * @param obj 
-	 * @return trueĽڵƥ䣬ԱԱfalse
+	 * 用于判断点操作符右面的函数是否和左面对象的类型匹配
+	 * @param obj 左面对象
+	 * @return true：右面的节点跟左面对象的类型匹配，是其成员或成员函数，false：不是
 	 */
 	abstract public boolean isLeftTypeMatch(Object obj);
 	
 	/**
-	 * õ󵽵ǰ
-	 * @param obj 
+	 * 设置点操作符的左侧对象到当前函数
+	 * @param obj 左面对象
 	 */
 	abstract public void setDotLeftObject(Object obj);
 	
 	/**
-	 * ýڵڵ
-	 * @param node ڵ
+	 * 设置节点的左侧节点
+	 * @param node 节点
 	 */
 	public void setLeft(Node node) {
 		left = node;
 	}
 
 	/**
-	 * ȡڵڵ㣬ûзؿ
+	 * 取节点的左侧节点，没有返回空
 	 * @return Node
 	 */
 	public Node getLeft() {
@@ -51,10 +51,10 @@ public abstract class MemberFunction extends Function {
 	}
 
 	/**
-	 * ú̳˴˷ҪûĴ˷ߵnextĴ˷
-	 * @param cs 
-	 * @param ctx 
-	 * @param param ַ
+	 * 设置函数参数，派生类如果继承了此方法需要调用基类的此方法或者调用next的此方法
+	 * @param cs 网格对象
+	 * @param ctx 计算上下文
+	 * @param param 函数参数字符串
 	 */
 	public void setParameter(ICellSet cs, Context ctx, String param) {
 		super.setParameter(cs, ctx, param);
@@ -71,7 +71,7 @@ public abstract class MemberFunction extends Function {
 	}
 
 	/**
-	 * ȡһͬĳԱû򷵻ؿ
+	 * 取下一个同名的成员函数，没有则返回空
 	 * @return MemberFunction
 	 */
 	public MemberFunction getNextFunction() {
@@ -79,41 +79,41 @@ public abstract class MemberFunction extends Function {
 	}
 	
 	/**
-	 * һͬĳԱ
-	 * @param fn Ա
+	 * 设置下一个同名的成员函数
+	 * @param fn 成员函数
 	 */
 	public void setNextFunction(MemberFunction fn) {
 		next = fn;
 	}
 	
 	/**
-	 * жϵǰڵǷк
-	 * ҲڵкڵҪת
+	 * 判断当前节点是否是序列函数
+	 * 如果点操作符的右侧节点是序列函数，左侧节点计算出数，则需要把数转成数列
 	 * @return
 	 */
 	public boolean isSequenceFunction() {
-		// ͬ˴˷ãͷĬֵ
+		// 如果同名函数有重载了此方法的则调用，否则就返回默认值
 		return next == null ? false : next.isSequenceFunction();
 	}
 
 	/**
-	 * жϽڵǷ޸еĳԱֵ˷ΪŻ[1,2,3].contain(...)ֱʽ
-	 * вᱻ[1,2,3]ԱɳУÿμ㶼һ
-	 * @return true޸ģfalse޸
+	 * 判断节点是否会修改序列的成员值，此方法为了优化[1,2,3].contain(...)这种表达式，
+	 * 如果序列不会被更改则[1,2,3]可以被产生成常数序列，而不是每次计算都产生一个序列
+	 * @return true：会修改，false：不会修改
 	 */
 	public boolean ifModifySequence() {
-		// ͬ˴˷ãͷĬֵ
+		// 如果同名函数有重载了此方法的则调用，否则就返回默认值
 		return next == null ? true : next.isSequenceFunction();
 	}
 	
 	/**
-	 * ԽڵŻ
-	 * @param ctx 
-	 * @param Node ŻĽڵ
+	 * 对节点做优化
+	 * @param ctx 计算上下文
+	 * @param Node 优化后的节点
 	 */
 	public Node optimize(Context ctx) {
 		if (param != null) {
-			// ԲŻ
+			// 对参数做优化
 			param.optimize(ctx);
 			if (next != null) {
 				next.optimize(ctx);
@@ -123,7 +123,7 @@ public abstract class MemberFunction extends Function {
 		return this;
 	}
 	
-	// x:,A:y:,z:F,
+	// x:…,A:y:…,z:F,…
 	protected static void parseJoinParam(IParam param, int index, Expression[][] exps,
 								   Object[] codes, Expression[][] dataExps,
 								   Expression[][] newExps, String[][] newNames, Context ctx) {
@@ -220,7 +220,7 @@ public abstract class MemberFunction extends Function {
 		}
 	}
 
-	// x:,A:y:,z:F,
+	// x:…,A:y:…,z:F,…
 	protected static void parseJoinxParam(IParam param, int index, Expression[][] exps,  Object[] codes, 
 			Expression[][] dataExps, Expression[][] newExps, String[][] newNames, Context ctx) {
 		int size = param.getSubSize();
@@ -586,9 +586,9 @@ public abstract class MemberFunction extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param left ڵ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param left 点运算符的左侧节点
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -596,10 +596,10 @@ public abstract class MemberFunction extends Function {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -652,9 +652,9 @@ public abstract class MemberFunction extends Function {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -707,9 +707,9 @@ public abstract class MemberFunction extends Function {
 	}
 		
 	/**
-	 * жϸֵΧǷ㵱ǰʽ
-	 * @param ctx 
-	 * @return ȡֵRelation. -1ֵΧûֵ0ֵΧֵ1ֵΧֵ
+	 * 判断给定的值域范围是否满足当前条件表达式
+	 * @param ctx 计算上行文
+	 * @return 取值参照Relation. -1：值域范围内没有满足条件的值，0：值域范围内有满足条件的值，1：值域范围的值都满足条件
 	 */
 	/*public int isValueRangeMatch(Context ctx) {
 		IArray array = left.calculateRange(ctx);
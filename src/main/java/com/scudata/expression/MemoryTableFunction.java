@@ -3,7 +3,7 @@ package com.scudata.expression;
 import com.scudata.dw.MemoryTable;
 
 /**
- * ڱԱ
+ * 内表成员函数基类
  * T.f()
  * @author RunQian
  *
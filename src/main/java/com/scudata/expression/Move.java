@@ -13,7 +13,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ִƫ
+ * 执行偏移运算
  * A[2]; f[2] A.f[2]
  * @author RunQian
  *
@@ -38,6 +38,16 @@ public class Move extends Function {
 		return super.containParam(name);
 	}
 
+	protected boolean containMutableConstant() {
+		if (getLeft().containMutableConstant()) return true;
+		return super.containMutableConstant();
+	}
+
+	protected void resetState() {
+		getLeft().resetState();
+		super.resetState();
+	}
+
 	protected void getUsedParams(Context ctx, ParamList resultList) {
 		getLeft().getUsedParams(ctx, resultList);
 		super.getUsedParams(ctx, resultList);
@@ -60,7 +70,7 @@ public class Move extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -77,7 +87,7 @@ public class Move extends Function {
 	}
 	
 	/**
-	 * жǷԼȫֵиֵʱֻһм
+	 * 判断是否可以计算全部的值，有赋值运算时只能一行行计算
 	 * @return
 	 */
 	public boolean canCalculateAll() {
@@ -106,21 +116,21 @@ public class Move extends Function {
 	}
 
 	/**
-	 * ƫƺ
-	 * @param current еѭǰ
-	 * @param ctx 
-	 * @return ƫƺ
+	 * 计算偏移后的索引
+	 * @param current 序列的循环当前
+	 * @param ctx 计算上下文
+	 * @return 偏移后的索引
 	 */
 	public int calculateIndex(Current current, Context ctx) {
 		return calculateIndex(current, param, ctx);
 	}
 	
 	/**
-	 * ƫƺ
-	 * @param current еѭǰ
-	 * @param param ƫƲ
-	 * @param ctx 
-	 * @return ƫƺ
+	 * 计算偏移后的索引
+	 * @param current 序列的循环当前
+	 * @param param 偏移参数
+	 * @param ctx 计算上下文
+	 * @return 偏移后的索引
 	 */
 	public static int calculateIndex(Current current, IParam param, Context ctx) {
 		Object posObj = param.getLeafExpression().calculate(ctx);
@@ -138,21 +148,21 @@ public class Move extends Function {
 	}
 
 	/**
-	 * ƫƺķΧ
-	 * @param current еѭǰ
-	 * @param ctx 
-	 * @return [ʼλ, λ]ʼλãͽλãɵ
+	 * 计算偏移后的范围
+	 * @param current 序列的循环当前
+	 * @param ctx 计算上下文
+	 * @return [起始位置, 结束位置]，起始位置（包含）和结束位置（包含）组成的数组
 	 */
 	public int[] calculateIndexRange(Current current, Context ctx) {
 		return calculateIndexRange(current, param, ctx);
 	}
 	
 	/**
-	 * ƫƺķΧ
-	 * @param current еѭǰ
-	 * @param param ƫƲ
-	 * @param ctx 
-	 * @return [ʼλ, λ]ʼλãͽλãɵ
+	 * 计算偏移后的范围
+	 * @param current 序列的循环当前
+	 * @param param 左右偏移参数
+	 * @param ctx 计算上下文
+	 * @return [起始位置, 结束位置]，起始位置（包含）和结束位置（包含）组成的数组
 	 */
 	public static int[] calculateIndexRange(Current current, IParam param, Context ctx) {
 		Number start = null, end = null;
@@ -217,17 +227,17 @@ public class Move extends Function {
 	}
 	
 	/**
-	 * ȡָΧڼ¼ֵֶ
-	 * @param current еѭǰ
-	 * @param fieldName ֶ
-	 * @param start ʼţ
-	 * @param end ţ
-	 * @return 
+	 * 取排列指定范围内记录的字段值
+	 * @param current 排列的循环当前
+	 * @param fieldName 字段名
+	 * @param start 起始序号，包含
+	 * @param end 结束序号，包含
+	 * @return 结果集序列
 	 */
 	public static Sequence getFieldValues(Current current, String fieldName, int start, int end) {
 		Sequence result = new Sequence(end - start + 1);
-		int col = -1; // ֶһ¼
-		BaseRecord prevRecord = null; // һ¼
+		int col = -1; // 字段在上一条记录的索引
+		BaseRecord prevRecord = null; // 上一条记录
 
 		while (start <= end) {
 			Object obj = current.get(start++);
@@ -259,7 +269,7 @@ public class Move extends Function {
 					throw new RQException(mm.getMessage("engine.needPmt"));
 				}
 
-				// ȸһ¼ĽṹȽϣͬṹֱֶκȡ
+				// 先跟上一条记录的结构做比较，如果同结构则直接用字段号取
 				BaseRecord cur = (BaseRecord)obj;
 				if (!prevRecord.isSameDataStruct(cur)) {
 					col = cur.getFieldIndex(fieldName);
@@ -281,12 +291,12 @@ public class Move extends Function {
 	}
 
 	/**
-	 * ȡָΧڼ¼ֵֶ
-	 * @param current еѭǰ
-	 * @param field ֶκ
-	 * @param start ʼţ
-	 * @param end ţ
-	 * @return 
+	 * 取排列指定范围内记录的字段值
+	 * @param current 排列的循环当前
+	 * @param field 字段号
+	 * @param start 起始序号，包含
+	 * @param end 结束序号，包含
+	 * @return 结果集序列
 	 */
 	public static Sequence getFieldValues(Current current, int field, int start, int end) {
 		Sequence result = new Sequence(end - start + 1);
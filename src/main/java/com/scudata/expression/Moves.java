@@ -10,8 +10,8 @@ import com.scudata.dm.ParamList;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡ¼
- * T{x:C,} 
+ * 取出附表记录返回序表
+ * T{x:C,……} 
  * @author RunQian
  *
  */
@@ -35,6 +35,16 @@ public class Moves extends Function {
 		return super.containParam(name);
 	}
 
+	protected boolean containMutableConstant() {
+		if (left.containMutableConstant()) return true;
+		return super.containMutableConstant();
+	}
+
+	protected void resetState() {
+		left.resetState();
+		super.resetState();
+	}
+
 	protected void getUsedParams(Context ctx, ParamList resultList) {
 		left.getUsedParams(ctx, resultList);
 		super.getUsedParams(ctx, resultList);
@@ -63,7 +73,7 @@ public class Moves extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -80,7 +90,7 @@ public class Moves extends Function {
 	}
 	
 	/**
-	 * жǷԼȫֵиֵʱֻһм
+	 * 判断是否可以计算全部的值，有赋值运算时只能一行行计算
 	 * @return
 	 */
 	public boolean canCalculateAll() {
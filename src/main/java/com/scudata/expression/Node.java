@@ -18,14 +18,14 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ʽڵ
+ * 表达式节点基类
  * @author WangXiaoJun
  *
  */
 public abstract class Node {
-	// ȼ壬ԽСȼԽ
-	public static final byte PRI_CMA = (byte) 1; //
-	public static final byte PRI_EVL = (byte) 2; //ֵ
+	// 优先级常量定义，数越小优先级越低
+	public static final byte PRI_CMA = (byte) 1; //逗号运算符
+	public static final byte PRI_EVL = (byte) 2; //赋值
 	//public static final byte PRI_ASS = (byte) 3;
 	//public static final byte PRI_CON = (byte) 4;
 	public static final byte PRI_LINK = (byte) 4;
@@ -54,37 +54,37 @@ public abstract class Node {
 	public static final byte PRI_NEGT = (byte) 17; //-
 	public static final byte PRI_PLUS = (byte) 17; //+
 	public static final byte PRI_SUF = (byte) 18; // A1(n), A.fn() r.f
-	public static final byte PRI_NUM = (byte) 19; // ʶ
-	public static final byte PRI_BRK = (byte) 20; // 
+	public static final byte PRI_NUM = (byte) 19; // 标识符、常数等
+	public static final byte PRI_BRK = (byte) 20; // 括号
 
-	protected int priority; // ȼ
+	protected int priority; // 优先级
 
 	/**
-	 * ڵ
+	 * 构造节点
 	 */
 	public Node() {
 		priority = PRI_NUM;
 	}
 
 	/**
-	 * ǰڵڣڵȼŵȼ
-	 * @param inBrackets Ų
+	 * 当前节点在括号内，给节点的优先级加上括号的优先级
+	 * @param inBrackets 括号层数
 	 */
 	public void setInBrackets(int inBrackets) {
 		this.priority += inBrackets * PRI_BRK;
 	}
 
 	/**
-	 * ȡõǰڵȼ
-	 * @return ȼ
+	 * 取得当前节点的优先级
+	 * @return 优先级
 	 */
 	public int getPriority() {
 		return this.priority;
 	}
 
 	/**
-	 * ýڵڵ
-	 * @param node ڵ
+	 * 设置节点的左侧节点
+	 * @param node 节点
 	 */
 	public void setLeft(Node node) {
 		if (node != null) {
@@ -94,8 +94,8 @@ public abstract class Node {
 	}
 
 	/**
-	 * ýڵҲڵ
-	 * @param node ڵ
+	 * 设置节点的右侧节点
+	 * @param node 节点
 	 */
 	public void setRight(Node node) {
 		if (node != null) {
@@ -105,7 +105,7 @@ public abstract class Node {
 	}
 
 	/**
-	 * ȡڵڵ㣬ûзؿ
+	 * 取节点的左侧节点，没有返回空
 	 * @return Node
 	 */
 	public Node getLeft() {
@@ -113,7 +113,7 @@ public abstract class Node {
 	}
 
 	/**
-	 * ȡڵҲڵ㣬ûзؿ
+	 * 取节点的右侧节点，没有返回空
 	 * @return Node
 	 */
 	public Node getRight() {
@@ -121,8 +121,8 @@ public abstract class Node {
 	}
 
 	/**
-	 * ѵҲԱ
-	 * @param obj 
+	 * 把点操作符的左侧对象设给右侧成员函数
+	 * @param obj 左侧对象
 	 */
 	public void setDotLeftObject(Object obj) {
 		MessageManager mm = EngineMessage.get();
@@ -130,8 +130,8 @@ public abstract class Node {
 	}
 
 	/**
-	 * жϵǰڵǷк
-	 * ҲڵкڵҪת
+	 * 判断当前节点是否是序列函数
+	 * 如果点操作符的右侧节点是序列函数，左侧节点计算出数，则需要把数转成数列
 	 * @return
 	 */
 	public boolean isSequenceFunction() {
@@ -139,17 +139,17 @@ public abstract class Node {
 	}
 	
 	/**
-	 * жϵĺǷƥ
-	 * @param obj 
-	 * @return trueĽڵƥ䣬ԱԱfalseƥ
+	 * 用于判断点操作符右面的函数是否和左面对象的类型匹配
+	 * @param obj 左面对象
+	 * @return true：右面的节点跟左面对象的类型匹配，是其成员或成员函数，false：不匹配
 	 */
 	public boolean isLeftTypeMatch(Object obj) {
 		return true;
 	}
 	
 	/**
-	 * ȡ뵱ǰԱͬһͬû򷵻ؿ
-	 * @return һͬĳԱ
+	 * 取与当前成员函数同名的下一个同名函数，没有则返回空
+	 * @return 下一个同名的成员函数
 	 */
 	public MemberFunction getNextFunction() {
 		MessageManager mm = EngineMessage.get();
@@ -157,15 +157,15 @@ public abstract class Node {
 	}
 	
 	/**
-	 * ڵֵ
-	 * @param ctx 
+	 * 计算节点的值
+	 * @param ctx 计算上下文
 	 * @return Object
 	 */
 	public abstract Object calculate(Context ctx);
 
 	/**
-	 * õĵԪ񣬲ȡԪֵʽǵԪ򷵻ؿ
-	 * @param ctx 
+	 * 计算出引用的单元格，不是取单元格的值，如果表达式不是单元格引用则返回空
+	 * @param ctx 计算上下文
 	 * @return INormalCell
 	 */
 	public INormalCell calculateCell(Context ctx) {
@@ -174,70 +174,84 @@ public abstract class Node {
 	}
 
 	/**
-	 * Ƿָ
-	 * @param name 
-	 * @return boolean truefalse
+	 * 返回是否包含指定参数
+	 * @param name 参数名
+	 * @return boolean true：包含，false：不包含
 	 */
 	protected boolean containParam(String name) {
 		return false;
 	}
 
 	/**
-	 * ұʽõ
-	 * @param ctx 
-	 * @param resultList ֵõĲӵ
+	 * 返回是否包含值为序列或记录的常数节点，常数函数优化后会产生这种节点，计算时可能被修改
+	 * @return boolean true：包含，false：不包含
+	 */
+	protected boolean containMutableConstant() {
+		return false;
+	}
+
+	/**
+	 * 重置计算时保留的状态，比如cum、rank记下的前一行的值，表达式重新使用前调用
+	 */
+	protected void resetState() {
+	}
+
+	/**
+	 * 查找表达式中用到参数
+	 * @param ctx 计算上下文
+	 * @param resultList 输出值，用到的参数会添加到这里面
 	 */
 	protected void getUsedParams(Context ctx, ParamList resultList) {
 	}
 	
 	/**
-	 * ұʽпõֶΣȡò׼ȷ߰
-	 * @param ctx 
-	 * @param resultList ֵõֶӵ
+	 * 查找表达式中可能用到的字段，可能取得不准确或者包含多个表的
+	 * @param ctx 计算上下文
+	 * @param resultList 输出值，用到的字段名会添加到这里面
 	 */
 	public void getUsedFields(Context ctx, List<String> resultList) {
 	}
 	
 	/**
-	 * ұʽõԪ
-	 * @param resultList ֵõĵԪӵ
+	 * 查找表达式中用到单元格
+	 * @param resultList 输出值，用到的单元格会添加到这里面
 	 */
 	protected void getUsedCells(List<INormalCell> resultList) {
 	}
 	
 	/**
-	 * жϽڵǷ޸еĳԱֵ˷ΪŻ[1,2,3].contain(...)ֱʽ
-	 * вᱻ[1,2,3]ԱɳУÿμ㶼һ
-	 * @return true޸ģfalse޸
+	 * 判断节点是否会修改序列的成员值，此方法为了优化[1,2,3].contain(...)这种表达式，
+	 * 如果序列不会被更改则[1,2,3]可以被产生成常数序列，而不是每次计算都产生一个序列
+	 * @return true：会修改，false：不会修改
 	 */
 	public boolean ifModifySequence() {
 		return true;
 	}
 	
 	/**
-	 * ԽڵŻ
-	 * @param ctx 
-	 * @param optSequence ǷŻб[1,2,3].contain(...)trueŻ
-	 * @return ŻĽڵ
+	 * 对节点做优化
+	 * @param ctx 计算上下文
+	 * @param optSequence 是否优化常数序列比如[1,2,3].contain(...)，true：优化
+	 * @return 优化后的节点
 	 */
 	public Node optimize(Context ctx, boolean optSequence) {
 		return optimize(ctx);
 	}
 
 	/**
-	 * ԽڵŻʽɳ
-	 * @param ctx 
-	 * @param Node ŻĽڵ
+	 * 对节点做优化，常数表达式先算成常数
+	 * @param ctx 计算上下文
+	 * @param Node 优化后的节点
 	 */
 	public Node optimize(Context ctx) {
 		return this;
 	}
 
 	/**
-	 * Եǰڵиֵ
-	 * @param value Ҳֵ
-	 * @param ctx 
-	 * @return Ҳֵ
+	 * 对当前节点进行赋值
+	 * @param value 右侧值
+	 * @param ctx 计算上下文
+	 * @return 右侧值
 	 */
 	public Object assign(Object value, Context ctx) {
 		MessageManager mm = EngineMessage.get();
@@ -245,10 +259,10 @@ public abstract class Node {
 	}
 	
 	/**
-	 * Եǰڵ+=
-	 * @param value Ҳֵ
-	 * @param ctx 
-	 * @return Object 
+	 * 对当前节点做+=运算
+	 * @param value 右侧值
+	 * @param ctx 计算上下文
+	 * @return Object 运算结果
 	 */
 	public Object addAssign(Object value, Context ctx) {
 		MessageManager mm = EngineMessage.get();
@@ -256,18 +270,18 @@ public abstract class Node {
 	}
 
 	/**
-	 * ؽڵķֵ
-	 * @param ctx 
-	 * @return byte ͶExpression
+	 * 返回节点的返回值类型
+	 * @param ctx 计算上下文
+	 * @return byte 类型定义在Expression中
 	 */
 	public byte calcExpValueType(Context ctx) {
 		return Expression.TYPE_OTHER;
 	}
 	
 	/**
-	 * ȡƫƣA[-1]F[-1]ȡһ
-	 * @param node ҲMoveڵ
-	 * @param ctx 
+	 * 用于取偏移，形如A[-1]，F[-1]这种取上一个的运算
+	 * @param node 右侧Move节点
+	 * @param ctx 计算上下文
 	 * @return Object
 	 */
 	public Object move(Move node, Context ctx) {
@@ -289,11 +303,11 @@ public abstract class Node {
 	}
 
 	/**
-	 * ڶƫƶиֵA[-1]=xF[-1]=xֵָ
-	 * @param node ҲMoveڵ
-	 * @param value Ҳֵ
-	 * @param ctx 
-	 * @return Ҳֵ
+	 * 用于对偏移对象进行赋值，形如A[-1]=x，F[-1]=x这种赋值运算
+	 * @param node 右侧Move节点
+	 * @param value 右侧值
+	 * @param ctx 计算上下文
+	 * @return 右侧值
 	 */
 	public Object moveAssign(Move node, Object value, Context ctx) {
 		Object obj = calculate(ctx);
@@ -315,10 +329,10 @@ public abstract class Node {
 	}
 
 	/**
-	 * ȡΧƫƣA[-1:1]F[-1:1]ȡһһ֮Ԫص
-	 * @param node ҲMoveڵ
-	 * @param ctx 
-	 * @return Object 
+	 * 用于取范围偏移，形如A[-1:1]，F[-1:1]这种取上一个到下一个之间的元素的运算
+	 * @param node 右侧Move节点
+	 * @param ctx 计算上下文
+	 * @return Object 结果集序列
 	 */
 	public Object moves(Move node, Context ctx) {
 		Object obj = calculate(ctx);
@@ -334,7 +348,7 @@ public abstract class Node {
 			throw new RQException("[]" + mm.getMessage("engine.seriesNotInStack"));
 		}
 
-		// Χ
+		// 计算结果集范围
 		int []range = node.calculateIndexRange(current, ctx);
 		if (range == null) {
 			return new Sequence(0);
@@ -351,48 +365,48 @@ public abstract class Node {
 	}
 	
 	/**
-	 * жϽڵǷָ
-	 * @param name 
-	 * @return trueָfalse
+	 * 判断节点是否是指定函数
+	 * @param name 函数名
+	 * @return true：是指定函数，false：不是
 	 */
 	public boolean isFunction(String name) {
 		return false;
 	}
 
-	/*--------ºΪʵgroupsĻܺǷǾۺϱʽ--------*/
+	/*--------以下函数为了实现groups里的汇总函数可以是非聚合表达式--------*/
 	
 	/**
-	 * ǰ׼
-	 * @param ctx 
+	 * 做分组运算前准备工作
+	 * @param ctx 计算上下文
 	 */
 	public void prepare(Context ctx) {
 	}
 	
 	/**
-	 * ¼Ļֵ
-	 * @param ctx 
-	 * @return ֵ
+	 * 计算新组首条记录的汇总值
+	 * @param ctx 计算上下文
+	 * @return 汇总值
 	 */
 	public Object gather(Context ctx) {
 		return calculate(ctx);
 	}
 	
 	/**
-	 * 㵱ǰ¼ֵ֮ܵǰĻܽoldValue
-	 * @param oldValue ֮ǰĻܽ
-	 * @param ctx 
-	 * @return ֵ
+	 * 计算当前记录的值，汇总到之前的汇总结果oldValue上
+	 * @param oldValue 之前的汇总结果
+	 * @param ctx 计算上下文
+	 * @return 汇总值
 	 */
 	public Object gather(Object oldValue, Context ctx) {
 		return oldValue;
 	}
 	
 	/**
-	 * м¼ֵܵ
-	 * @param result 
-	 * @param resultSeqs ÿ¼ӦĽ
-	 * @param ctx 
-	 * @return IArray 
+	 * 计算所有记录的值，汇总到结果数组上
+	 * @param result 结果数组
+	 * @param resultSeqs 每条记录对应的结果数组的序号
+	 * @param ctx 计算上下文
+	 * @return IArray 结果数组
 	 */
 	public IArray gather(IArray result, int []resultSeqs, Context ctx) {
 		IArray array = calculateAll(ctx);
@@ -401,7 +415,7 @@ public abstract class Node {
 		}
 		
 		for (int i = 1, len = array.size(); i <= len; ++i) {
-			// ²ȡһ¼ֵѾټ
+			// 新产生的组取第一条记录的值，已经产生的组则不再计算
 			if (result.size() < resultSeqs[i]) {
 				result.add(array, i);
 			}
@@ -411,20 +425,20 @@ public abstract class Node {
 	}
 
 	/**
-	 * ̷̳Ķλ
-	 * @param result һ̵߳ķ
-	 * @param result2 һ̵߳ķ
-	 * @param seqs һ̵߳ķһ̷߳ĶӦϵ
-	 * @param ctx 
+	 * 多程程分组的二次汇总运算
+	 * @param result 一个线程的分组结果
+	 * @param result2 另一个线程的分组结果
+	 * @param seqs 另一个线程的分组跟第一个线程分组的对应关系
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public void gather2(IArray result, IArray result2, int []seqs, Context ctx) {
 	}
 	
 	/**
-	 * ȡλܶӦıʽ
-	 * ̷߳ʱÿ߳һҪڵһηη
-	 * @param q ֶ
+	 * 取二次汇总对应的表达式
+	 * 多线程分组时，每个线程算出一个分组结果，最后需要在第一次分组结果上再做二次分组
+	 * @param q 汇总字段序号
 	 * @return Expression
 	 */
 	public Expression getRegatherExpression(int q) {
@@ -433,25 +447,25 @@ public abstract class Node {
 	}
 	
 	/**
-	 * һʱǷҪfinish1Իֵ״δtopҪ
-	 * @return trueҪfalseҪ
+	 * 第一步分组结束时是否需要调用finish1对汇总值进行首次处理，top需要调用
+	 * @return true：需要，false：不需要
 	 */
 	public boolean needFinish1() {
 		return false;
 	}
 	
 	/**
-	 * ԵһηõĻֵ״δֵҪμӶη
-	 * @param val ֵ
-	 * @return Ļֵ
+	 * 对第一次分组得到的汇总值进行首次处理，处理后的值还要参加二次分组运算
+	 * @param val 汇总值
+	 * @return 处理后的汇总值
 	 */
 	public Object finish1(Object val) {
 		return val;
 	}
 	
 	/**
-	 * ԵһηõĻн״δֵҪμӶη
-	 * @param array еֵ
+	 * 对第一次分组得到的汇总列进行首次处理，处理后的值还要参加二次分组运算
+	 * @param array 计算列的值
 	 * @return IArray
 	 */
 	public IArray finish1(IArray array) {
@@ -459,25 +473,25 @@ public abstract class Node {
 	}
 	
 	/**
-	 * ǷҪջֵд
-	 * @return trueҪfalseҪ
+	 * 是否需要对最终汇总值进行处理
+	 * @return true：需要，false：不需要
 	 */
 	public boolean needFinish() {
 		return false;
 	}
 	
 	/**
-	 * ԷõĻֵմƽֵҪsum/count
-	 * @param val ֵ
-	 * @return Ļֵ
+	 * 对分组结束得到的汇总值进行最终处理，像平均值需要做sum/count处理
+	 * @param val 汇总值
+	 * @return 处理后的汇总值
 	 */
 	public Object finish(Object val) {
 		return val;
 	}
 	
 	/**
-	 * ԷõĻнմ
-	 * @param array еֵ
+	 * 对分组结束得到的汇总列进行最终处理
+	 * @param array 计算列的值
 	 * @return IArray
 	 */
 	public IArray finish(IArray array) {
@@ -485,14 +499,14 @@ public abstract class Node {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
-		// ̳д˷﷨ǷЧ
+		// 派生类继承此方法检查语法是否有效
 	}
 	
 	/**
-	 * жǷԼȫֵиֵʱֻһм
+	 * 判断是否可以计算全部的值，有赋值运算时只能一行行计算
 	 * @return
 	 */
 	public boolean canCalculateAll() {
@@ -500,8 +514,8 @@ public abstract class Node {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -520,10 +534,10 @@ public abstract class Node {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -546,9 +560,9 @@ public abstract class Node {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -570,16 +584,16 @@ public abstract class Node {
 	}
 	
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return false;
 	}
 	
 	/**
-	 * ʽȡֵΧ
-	 * @param ctx 
+	 * 计算表达式的取值范围
+	 * @param ctx 计算上行文
 	 * @return
 	 */
 	public IArray calculateRange(Context ctx) {
@@ -591,9 +605,9 @@ public abstract class Node {
 	}
 	
 	/**
-	 * жϸֵΧǷ㵱ǰʽ
-	 * @param ctx 
-	 * @return ȡֵRelation. -1ֵΧûֵ0ֵΧֵ1ֵΧֵ
+	 * 判断给定的值域范围是否满足当前条件表达式
+	 * @param ctx 计算上行文
+	 * @return 取值参照Relation. -1：值域范围内没有满足条件的值，0：值域范围内有满足条件的值，1：值域范围的值都满足条件
 	 */
 	public int isValueRangeMatch(Context ctx) {
 		return Relation.PARTICALMATCH;
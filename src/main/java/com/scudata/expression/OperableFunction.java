@@ -3,8 +3,8 @@ package com.scudata.expression;
 import com.scudata.dm.op.Operable;
 
 /**
- * ɸӲԱ
- * cs.f()ch.f()
+ * 可附加操作对象成员函数基类
+ * cs.f()，ch.f()
  * @author RunQian
  *
  */
@@ -7,13 +7,13 @@ import com.scudata.dm.Context;
 import com.scudata.dm.ParamList;
 
 /**
- * ʽڵ
+ * 表达式里运算符节点基类
  * @author RunQian
  *
  */
 public abstract class Operator extends Node {
-	protected Node left; // ڵ
-	protected Node right; // ҽڵ
+	protected Node left; // 左节点
+	protected Node right; // 右节点
 
 	public void setLeft(Node node) {
 		this.left = node;
@@ -37,6 +37,17 @@ public abstract class Operator extends Node {
 		return false;
 	}
 
+	protected boolean containMutableConstant() {
+		if (left != null && left.containMutableConstant()) return true;
+		if (right != null && right.containMutableConstant()) return true;
+		return false;
+	}
+
+	protected void resetState() {
+		if (left != null) left.resetState();
+		if (right != null) right.resetState();
+	}
+
 	protected void getUsedParams(Context ctx, ParamList resultList) {
 		if (left != null) left.getUsedParams(ctx, resultList);
 		if (right != null) right.getUsedParams(ctx, resultList);
@@ -64,7 +75,7 @@ public abstract class Operator extends Node {
 	}
 	
 	/**
-	 * жǷԼȫֵиֵʱֻһм
+	 * 判断是否可以计算全部的值，有赋值运算时只能一行行计算
 	 * @return
 	 */
 	public boolean canCalculateAll() {
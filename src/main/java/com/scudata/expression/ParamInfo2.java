@@ -6,7 +6,7 @@ import com.scudata.dm.Context;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ڽe1:f1, e2:f2...Ĳ
+ * 用于解析形如e1:f1, e2:f2...的参数
  * @author RunQian
  *
  */
@@ -14,23 +14,23 @@ public class ParamInfo2 {
 	private Expression []exps1;
 	private Expression []exps2;
 
-	// has1 һǷڣ has2 ڶǷ
+	// has1 第一个参数是否必须存在， has2 第二个参数是否必须存在
 	private ParamInfo2(Expression []exps1, Expression []exps2) {
 		this.exps1 = exps1;
 		this.exps2 = exps2;
 	}
 
-	// صһебʽ
+	// 返回第一列的所有表达式
 	public Expression[] getExpressions1() {
 		return exps1;
 	}
 
-	// صڶебʽ
+	// 返回第二列的所有表达式
 	public Expression[] getExpressions2() {
 		return exps2;
 	}
 
-	// صһебʽַ
+	// 返回第一列的所有表达式字符串
 	public String[] getExpressionStrs1() {
 		Expression []exps = this.exps1;
 		int size = exps.length;
@@ -44,7 +44,7 @@ public class ParamInfo2 {
 		return strs;
 	}
 
-	// صڶебʽַ
+	// 返回第二列的所有表达式字符串
 	public String[] getExpressionStrs2() {
 		Expression []exps = this.exps2;
 		int size = exps.length;
@@ -58,7 +58,7 @@ public class ParamInfo2 {
 		return strs;
 	}
 
-	// صһебʽļֵ
+	// 返回第一列的所有表达式的计算值
 	public Object[] getValues1(Context ctx) {
 		Expression []exps = this.exps1;
 		int size = exps.length;
@@ -72,7 +72,7 @@ public class ParamInfo2 {
 		return vals;
 	}
 
-	// صڶебʽļֵ
+	// 返回第二列的所有表达式的计算值
 	public Object[] getValues2(Context ctx) {
 		Expression []exps = this.exps2;
 		int size = exps.length;
@@ -5,7 +5,7 @@ import com.scudata.common.RQException;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ڽe1:f1:c1, e2:f2:c2...Ĳ
+ * 用于解析形如e1:f1:c1, e2:f2:c2...的参数
  * @author RunQian
  *
  */
@@ -14,29 +14,29 @@ public class ParamInfo3 {
 	private Expression []exps2;
 	private Expression []exps3;
 
-	// has1 һǷڣ has2 ڶǷ
+	// has1 第一个参数是否必须存在， has2 第二个参数是否必须存在
 	private ParamInfo3(Expression []exps1, Expression []exps2, Expression []exps3) {
 		this.exps1 = exps1;
 		this.exps2 = exps2;
 		this.exps3 = exps3;
 	}
 
-	// صһебʽ
+	// 返回第一列的所有表达式
 	public Expression[] getExpressions1() {
 		return exps1;
 	}
 
-	// صڶебʽ
+	// 返回第二列的所有表达式
 	public Expression[] getExpressions2() {
 		return exps2;
 	}
 
-	// صебʽ
+	// 返回第三列的所有表达式
 	public Expression[] getExpressions3() {
 		return exps3;
 	}
 
-	// صһебʽַ
+	// 返回第一列的所有表达式字符串
 	public String[] getExpressionStrs1() {
 		Expression []exps = this.exps1;
 		int size = exps.length;
@@ -50,7 +50,7 @@ public class ParamInfo3 {
 		return strs;
 	}
 
-	// صڶебʽַ
+	// 返回第二列的所有表达式字符串
 	public String[] getExpressionStrs2() {
 		Expression []exps = this.exps2;
 		int size = exps.length;
@@ -64,7 +64,7 @@ public class ParamInfo3 {
 		return strs;
 	}
 
-	// صебʽַ
+	// 返回第三列的所有表达式字符串
 	public String[] getExpressionStrs3() {
 		Expression []exps = this.exps3;
 		int size = exps.length;
@@ -14,12 +14,12 @@ import com.scudata.dm.ParamList;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ɶ
+ * 解析函数参数成多叉树
  * @author RunQian
  *
  */
 public final class ParamParser {
-	// ָڵ ';' ',' ':'
+	// 分隔符节点 ';' ',' ':'
 	private static class SymbolParam implements IParam {
 		private char level;
 		private ArrayList<IParam> paramList = new ArrayList<IParam>(3);
@@ -62,9 +62,9 @@ public final class ParamParser {
 		}
 		
 		/**
-		 * رʽ飬ֵֻ֧Ĳ
-		 * @param function ׳쳣
-		 * @param canNull Ƿɿ
+		 * 返回表达式数组，只支持单层的参数
+		 * @param function 函数名，用于抛出异常
+		 * @param canNull 参数是否可空
 		 * @return
 		 */
 		public Expression[] toArray(String function, boolean canNull) {
@@ -89,10 +89,10 @@ public final class ParamParser {
 		}
 		
 		/**
-		 * رʽַ飬ֵֻ֧Ĳ
-		 * @param function ׳쳣
-		 * @param canNull Ƿɿ
-		 * @return ʽ
+		 * 返回表达式字符串数组，只支持单层的参数
+		 * @param function 函数名，用于抛出异常
+		 * @param canNull 参数是否可空
+		 * @return 表达式串数组
 		 */
 		public String []toStringArray(String function, boolean canNull) {
 			int size = getSubSize();
@@ -133,7 +133,7 @@ public final class ParamParser {
 		}
 
 		/**
-		 * Ƿָ
+		 * 返回是否包含指定参数
 		 * @param name String
 		 * @return boolean
 		 */
@@ -145,6 +145,21 @@ public final class ParamParser {
 			return false;
 		}
 
+		public boolean containMutableConstant() {
+			for (int i = 0, size = getSubSize(); i < size; ++i) {
+				IParam sub = getSub(i);
+				if (sub != null && sub.containMutableConstant()) return true;
+			}
+			return false;
+		}
+
+		public void resetState() {
+			for (int i = 0, size = getSubSize(); i < size; ++i) {
+				IParam sub = getSub(i);
+				if (sub != null) sub.resetState();
+			}
+		}
+
 		public void getUsedParams(Context ctx, ParamList resultList) {
 			for (int i = 0, size = getSubSize(); i < size; ++i) {
 				IParam sub = getSub(i);
@@ -179,7 +194,7 @@ public final class ParamParser {
 		}
 		
 		/**
-		 * жǷԼȫֵиֵʱֻһм
+		 * 判断是否可以计算全部的值，有赋值运算时只能一行行计算
 		 * @return
 		 */
 		public boolean canCalculateAll() {
@@ -194,7 +209,7 @@ public final class ParamParser {
 		}
 	}
 
-	// Ҷӽڵ
+	// 叶子节点
 	private static class LeafParam implements IParam {
 		private Expression exp;
 
@@ -227,9 +242,9 @@ public final class ParamParser {
 		}
 		
 		/**
-		 * رʽ飬ֵֻ֧Ĳ
-		 * @param function ׳쳣
-		 * @param canNull Ƿɿ
+		 * 返回表达式数组，只支持单层的参数
+		 * @param function 函数名，用于抛出异常
+		 * @param canNull 参数是否可空
 		 * @return
 		 */
 		public Expression[] toArray(String function, boolean canNull) {
@@ -237,10 +252,10 @@ public final class ParamParser {
 		}
 		
 		/**
-		 * رʽַ飬ֵֻ֧Ĳ
-		 * @param function ׳쳣
-		 * @param canNull Ƿɿ
-		 * @return ʽ
+		 * 返回表达式字符串数组，只支持单层的参数
+		 * @param function 函数名，用于抛出异常
+		 * @param canNull 参数是否可空
+		 * @return 表达式串数组
 		 */
 		public String []toStringArray(String function, boolean canNull) {
 			return new String[]{exp.toString()};
@@ -251,7 +266,7 @@ public final class ParamParser {
 		}
 
 		/**
-		 * Ƿָ
+		 * 返回是否包含指定参数
 		 * @param name String
 		 * @return boolean
 		 */
@@ -259,6 +274,14 @@ public final class ParamParser {
 			return exp.containParam(name);
 		}
 
+		public boolean containMutableConstant() {
+			return exp.containMutableConstant();
+		}
+
+		public void resetState() {
+			exp.resetState();
+		}
+
 		public void getUsedParams(Context ctx, ParamList resultList) {
 			exp.getUsedParams(ctx, resultList);
 		}
@@ -278,7 +301,7 @@ public final class ParamParser {
 		}
 		
 		/**
-		 * жǷԼȫֵиֵʱֻһм
+		 * 判断是否可以计算全部的值，有赋值运算时只能一行行计算
 		 * @return
 		 */
 		public boolean canCalculateAll() {
@@ -287,7 +310,7 @@ public final class ParamParser {
 	}
 
 	/**
-	 * һҶӽڵ
+	 * 产生一个叶子节点参数
 	 * @param paramStr
 	 * @param cs
 	 * @param ctx
@@ -307,36 +330,36 @@ public final class ParamParser {
 	}
 	
 	/**
-	 * βظڵ㣬滻
-	 * @param cs 
-	 * @param ctx 
-	 * @param paramStr 
-	 * @return IParam ڵ㣬ûвΪ
+	 * 解析层次参数，返回根节点，不做宏替换
+	 * @param cs 网格对象
+	 * @param ctx 计算上下文
+	 * @param paramStr 参数串
+	 * @return IParam 参数根节点，没有参数则为空
 	 */
 	public static IParam parse(String paramStr, ICellSet cs, Context ctx) {
 		return parse(paramStr, cs, ctx, IParam.NONE, false, Expression.DoOptimize);
 	}
 
 	/**
-	 * βظڵ
-	 * @param cs 
-	 * @param ctx 
-	 * @param paramStr 
-	 * @param doMacro Ƿ滻truefalse
-	 * @return IParam ڵ㣬ûвΪ
+	 * 解析层次参数，返回根节点
+	 * @param cs 网格对象
+	 * @param ctx 计算上下文
+	 * @param paramStr 参数串
+	 * @param doMacro 是否做宏替换，true：做，false：不做
+	 * @return IParam 参数根节点，没有参数则为空
 	 */
 	public static IParam parse(String paramStr, ICellSet cs, Context ctx, boolean doMacro) {
 		return parse(paramStr, cs, ctx, IParam.NONE, doMacro, Expression.DoOptimize);
 	}
 
 	/**
-	 * βظڵ
-	 * @param paramStr 
-	 * @param cs 
-	 * @param ctx 
-	 * @param doMacro Ƿ滻truefalse
-	 * @param doOpt ǷŻtruefalse
-	 * @return IParam ڵ㣬ûвΪ
+	 * 解析层次参数，返回根节点
+	 * @param paramStr 参数串
+	 * @param cs 网格对象
+	 * @param ctx 计算上下文
+	 * @param doMacro 是否做宏替换，true：做，false：不做
+	 * @param doOpt 是否做优化，true：做，false：不做
+	 * @return IParam 参数根节点，没有参数则为空
 	 */
 	public static IParam parse(String paramStr, ICellSet cs, Context ctx, boolean doMacro, boolean doOpt) {
 		return parse(paramStr, cs, ctx, IParam.NONE, doMacro, doOpt);
@@ -352,15 +375,15 @@ public final class ParamParser {
 			return null;
 		}
 
-		// ðŷָֻҶӽڵ
+		// 冒号分隔符下只能是叶子节点
 		if (prevLevel == IParam.Colon) {
 			return new LeafParam(new Expression(cs, ctx, paramStr, doOpt, doMacro));
 		}
 
-		// ҵдڵķָ
+		// 找到参数串中存在的分隔符
 		char level = getNextLevel(prevLevel);
 		while (!hasSeparator(paramStr, level)) {
-			// ðŷָֻҶӽڵ
+			// 冒号分隔符下只能是叶子节点
 			if (level == IParam.Colon) {
 				return new LeafParam(new Expression(cs, ctx, paramStr, doOpt, doMacro));
 			} else {
@@ -368,7 +391,7 @@ public final class ParamParser {
 			}
 		}
 
-		// ɷָڵ㣬Ȼݹӽڵ
+		// 生成分隔符节点，然后递归解析子节点
 		SymbolParam param = new SymbolParam(level);
 		ArgumentTokenizer arg = new ArgumentTokenizer(paramStr, level);
 		while (arg.hasMoreElements()) {
@@ -378,7 +401,7 @@ public final class ParamParser {
 		return param;
 	}
 
-	// ȡָһָ
+	// 取分隔符的下一层分隔符
 	private static char getNextLevel(char prevLevel) {
 		switch (prevLevel) {
 		case IParam.NONE:
@@ -392,13 +415,13 @@ public final class ParamParser {
 		}
 	}
 
-	// жϲǷָָ
+	// 判断参数串中是否存在指定分隔符
 	private static boolean hasSeparator(String str, char separator) {
 		int len = str.length();
 		int index = 0;
 		
 		while (index < len) {
-			// Ҫšźת
+			// 需要跳过引号、括号和转义符
 			char ch = str.charAt(index);
 
 			if (ch == separator) {
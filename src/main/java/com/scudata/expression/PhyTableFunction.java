@@ -3,7 +3,7 @@ package com.scudata.expression;
 import com.scudata.dw.IPhyTable;
 
 /**
- * Ա
+ * 组表成员函数基类
  * @author RunQian
  *
  */
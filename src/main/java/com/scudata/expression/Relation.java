@@ -6,29 +6,29 @@ import com.scudata.array.IArray;
 import com.scudata.dm.Context;
 
 /**
- * ϵ࣬ڶϵ
+ * 关系运算基类，用于定义关系常量
  * @author WangXiaoJun
  *
  */
 public abstract class Relation extends Operator {
-	public static final int EQUAL = 1; // 
-	public static final int GREATER = 2; // 
-	public static final int GREATER_EQUAL = 3; // ڵ
-	public static final int LESS  = 4; // С
-	public static final int LESS_EQUAL = 5; // Сڵ
-	public static final int NOT_EQUAL = 6; // 
-	public static final int AND = 7; // ߼
-	public static final int OR = 8; // ߼
+	public static final int EQUAL = 1; // 等于
+	public static final int GREATER = 2; // 大于
+	public static final int GREATER_EQUAL = 3; // 大于等于
+	public static final int LESS  = 4; // 小于
+	public static final int LESS_EQUAL = 5; // 小于等于
+	public static final int NOT_EQUAL = 6; // 不等于
+	public static final int AND = 7; // 逻辑与
+	public static final int OR = 8; // 逻辑或
 
-	// ƥֵҪ
-	public static final int UNMATCH = -1; // ȫƥ
-	public static final int PARTICALMATCH = 0; // ƥ
-	public static final int ALLMATCH = 1; // ȫƥ
+	// 匹配结果，数值需要递增
+	public static final int UNMATCH = -1; // 全不匹配
+	public static final int PARTICALMATCH = 0; // 部分匹配
+	public static final int ALLMATCH = 1; // 全匹配
 	
 	/**
-	 * ֵλãȡֵֵıȽϹϵ
-	 * @param ralation Relationжĳ
-	 * @return Relationеĳ
+	 * 互换左右值的位置，取右值和左值的比较关系
+	 * @param ralation 参照Relation中定义的常量
+	 * @return 定义在Relation中的常量
 	 */
 	public static int getInverseRelation(int ralation) {
 		switch(ralation) {
@@ -46,20 +46,20 @@ public abstract class Relation extends Operator {
 	}
 	
 	/**
-	 * ȡֵֵıȽϹϵ
-	 * @return Relationеĳ
+	 * 取左值和右值的比较关系
+	 * @return 定义在Relation中的常量
 	 */
 	public abstract int getRelation();
 	
 	/**
-	 * ֵλãȡֵֵıȽϹϵ
-	 * @return Relationеĳ
+	 * 互换左右值的位置，取右值和左值的比较关系
+	 * @return 定义在Relation中的常量
 	 */
 	public abstract int getInverseRelation();
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -69,10 +69,10 @@ public abstract class Relation extends Operator {
 	}
 
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -84,9 +84,9 @@ public abstract class Relation extends Operator {
 	}
 
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -98,9 +98,9 @@ public abstract class Relation extends Operator {
 	}
 	
 	/**
-	 * ߼||Ҳʽ
-	 * @param ctx 
-	 * @param leftResult ||ʽļ
+	 * 计算逻辑或运算符||的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult ||左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateOr(Context ctx, IArray leftResult) {
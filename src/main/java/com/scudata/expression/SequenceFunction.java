@@ -3,13 +3,13 @@ package com.scudata.expression;
 import com.scudata.dm.Sequence;
 
 /**
- * гԱ
+ * 序列成员函数基类
  * A.f()
  * @author RunQian
  *
  */
 public abstract class SequenceFunction extends MemberFunction {
-	protected Sequence srcSequence; // 
+	protected Sequence srcSequence; // 序列
 
 	public boolean isLeftTypeMatch(Object obj) {
 		return obj instanceof Sequence;
@@ -20,8 +20,8 @@ public abstract class SequenceFunction extends MemberFunction {
 	}
 
 	/**
-	 * жϵǰڵǷк
-	 * ҲڵкڵҪת
+	 * 判断当前节点是否是序列函数
+	 * 如果点操作符的右侧节点是序列函数，左侧节点计算出数，则需要把数转成数列
 	 * @return
 	 */
 	public boolean isSequenceFunction() {
@@ -3,13 +3,13 @@ package com.scudata.expression;
 import com.scudata.dm.SerialBytes;
 
 /**
- * źųԱ
+ * 排号成员函数基类
  * k.f()
  * @author RunQian
  *
  */
 public abstract class SerialFunction extends MemberFunction {
-	protected SerialBytes sb; // ź
+	protected SerialBytes sb; // 排号
 
 	public boolean isLeftTypeMatch(Object obj) {
 		return obj instanceof SerialBytes;
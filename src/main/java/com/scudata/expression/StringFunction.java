@@ -1,13 +1,13 @@
 package com.scudata.expression;
 
 /**
- * ַԱ
+ * 字符串成员函数基类
  * S.f()
  * @author RunQian
  *
  */
 public abstract class StringFunction extends MemberFunction {
-	protected String srcStr; // Դ
+	protected String srcStr; // 源串
 	
 	public boolean isLeftTypeMatch(Object obj) {
 		return obj instanceof String;
@@ -8,7 +8,7 @@ import com.scudata.dm.Context;
 import com.scudata.resources.EngineMessage;
 
 /**
- * μгĵԪ񣬷һĽ
+ * 依次计算代码块中除主格外的单元格，返回最后一个计算格的结果
  * ??
  * @author RunQian
  *
@@ -3,13 +3,13 @@ package com.scudata.expression;
 import com.scudata.dm.Table;
 
 /**
- * Ա
+ * 序表成员函数基类
  * T.f()
  * @author RunQian
  *
  */
 public abstract class TableFunction extends MemberFunction {
-	protected Table srcTable; // Դ
+	protected Table srcTable; // 源序表
 	
 	public boolean isLeftTypeMatch(Object obj) {
 		return obj instanceof Table;
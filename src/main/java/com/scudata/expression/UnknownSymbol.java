@@ -26,21 +26,21 @@ import com.scudata.util.EnvUtil;
 import com.scudata.util.Variant;
 
 /**
- * ʽʱûʶʲôǱҲֶΡ
- * йٸݼȷֶλǱ
+ * 产生表达式的时候没发分析出标识符是什么，可能是变量也可能是字段。
+ * 运行过程中再根据计算上下文来确定是字段还是变量
  * @author WangXiaoJun
  *
  */
 public class UnknownSymbol extends Node {
 	private String name;
 	
-	private IComputeItem computeItem; // ϴμʱӦļ
-	private int col = -1; // ϴμӦֶŻ
-	private DataStruct prevDs; // ϴμӦݽṹŻ
+	private IComputeItem computeItem; // 上次计算时对应的计算对象
+	private int col = -1; // 上次计算对应的字段索引，用于性能优化
+	private DataStruct prevDs; // 上次计算对应的数据结构，用于性能优化
 	
-	private Param param; // ϴμӦı
-	private DBObject db;  // ϴμӦݿ
-	private boolean isField = false; // ǷӦֶ
+	private Param param; // 上次计算对应的变量
+	private DBObject db;  // 上次计算对应的数据库连接
+	private boolean isField = false; // 是否对应的是字段
 	
 	public UnknownSymbol(String name) {
 		this.name = name;
@@ -72,7 +72,7 @@ public class UnknownSymbol extends Node {
 	}
 
 	public Object calculate(Context ctx) {
-		// ϴμʽʱӦļ¼лڶջʹϴε
+		// 如果上次计算表达式时对应的纪录或序列还在堆栈中则使用上次的
 		ComputeStack stack = ctx.getComputeStack();
 		if (computeItem != null && computeItem.isInStack(stack)) {
 			Object obj = computeItem.getCurrent();
@@ -89,7 +89,7 @@ public class UnknownSymbol extends Node {
 
 				return cur.getNormalFieldValue(col);
 			} else if (obj instanceof Sequence) {
-				// ǰԪȡһԪ
+				// 如果当前元素是序列则取其第一个元素
 				if (((Sequence)obj).length() == 0) {
 					return null;
 				}
@@ -120,7 +120,7 @@ public class UnknownSymbol extends Node {
 				throw new RQException(mm.getMessage("Expression.unknownExpression") + name);
 			}
 		} else {
-			// ֶұ
+			// 如果曾经被当做字段则不再找变量
 			if (!isField) {
 				if (param != null) {
 					return param.getValue();
@@ -129,11 +129,11 @@ public class UnknownSymbol extends Node {
 				}
 				
 				param = EnvUtil.getParam(name, ctx);
-				if (param != null) { // 
+				if (param != null) { // 变量
 					return param.getValue();
 				}
 				
-				// ݿ
+				// 数据库连接
 				DBSession dbs = ctx.getDBSession(name);
 				if (dbs != null) {
 					db = new DBObject(dbs);
@@ -143,9 +143,9 @@ public class UnknownSymbol extends Node {
 				isField = true;
 			}
 
-			// ֶ
-			// һ㻷Ѹı
-			boolean hasNull = false; // ǷеһԱΪ
+			// 字段
+			// 第一次运算或运算环境已改变
+			boolean hasNull = false; // 是否有序列第一个成员为空
 			for (LinkEntry<IComputeItem> entry = stack.getStackHeadEntry(); entry != null; entry = entry.getNext()) {
 				IComputeItem item = entry.getElement();
 				Object cur = item.getCurrent();
@@ -159,7 +159,7 @@ public class UnknownSymbol extends Node {
 						return r.getNormalFieldValue(col);
 					}
 				} else if (cur instanceof Sequence) {
-					// ǰԪȡһԪ
+					// 如果当前元素是序列则取其第一个元素
 					if (((Sequence)cur).length() == 0) {
 						computeItem = item;
 						return null;
@@ -192,9 +192,9 @@ public class UnknownSymbol extends Node {
 		}
 	}
 
-	// '=' ֵ
+	// '=' 赋值运算
 	public Object assign(Object value, Context ctx) {
-		// ϴμʽʱӦļ¼лڶջʹϴε
+		// 如果上次计算表达式时对应的纪录或序列还在堆栈中则使用上次的
 		ComputeStack stack = ctx.getComputeStack();
 		if (computeItem != null && computeItem.isInStack(stack)) {
 			Object obj = computeItem.getCurrent();
@@ -211,7 +211,7 @@ public class UnknownSymbol extends Node {
 
 				cur.setNormalFieldValue(col, value);
 			} else if (obj instanceof Sequence) {
-				// ǰԪȡһԪ
+				// 如果当前元素是序列则取其第一个元素
 				if (((Sequence)obj).length() == 0) {
 					return value;
 				}
@@ -244,19 +244,19 @@ public class UnknownSymbol extends Node {
 			return value;
 		} else {
 			if (computeItem == null) {
-				param = EnvUtil.getParam(name, ctx); // 
+				param = EnvUtil.getParam(name, ctx); // 变量
 				if (param != null) {
 					param.setValue(value);
 					return value;
 				}
 			}
 
-			// һ㻷Ѹı
+			// 第一次运算或运算环境已改变
 			for (LinkEntry<IComputeItem> entry = stack.getStackHeadEntry(); entry != null; entry = entry.getNext()) {
 				IComputeItem item = entry.getElement();
 				Object cur = item.getCurrent();
 				
-				// ֵԪΪnull
+				// 赋值的情况不允许序列首元素为null？
 				if (cur instanceof BaseRecord) {
 					BaseRecord r = (BaseRecord) cur;
 					col = r.getFieldIndex(name);
@@ -282,7 +282,7 @@ public class UnknownSymbol extends Node {
 						return value;
 					}
 				} else if (cur instanceof Sequence) {
-					// ǰԪȡһԪ
+					// 如果当前元素是序列则取其第一个元素
 					if (((Sequence)cur).length() == 0) {
 						computeItem = item;
 						return value;
@@ -303,16 +303,16 @@ public class UnknownSymbol extends Node {
 				}
 			}
 
-			// ûҵֶ
+			// 没有找到字段则产生变量放入上下文中
 			param = new Param(name, Param.VAR, value);
 			ctx.addParam(param);
 			return value;
 		}
 	}
 
-	// '+=' ֵ
+	// '+=' 赋值运算
 	public Object addAssign(Object value, Context ctx) {
-		// ϴμʽʱӦļ¼лڶջʹϴε
+		// 如果上次计算表达式时对应的纪录或序列还在堆栈中则使用上次的
 		ComputeStack stack = ctx.getComputeStack();
 		if (computeItem != null && computeItem.isInStack(stack)) {
 			Object obj = computeItem.getCurrent();
@@ -331,7 +331,7 @@ public class UnknownSymbol extends Node {
 				cur.setNormalFieldValue(col, result);
 				return result;
 			} else if (obj instanceof Sequence) {
-				// ǰԪȡһԪ
+				// 如果当前元素是序列则取其第一个元素
 				if (((Sequence)obj).length() == 0) {
 					return value;
 				}
@@ -367,7 +367,7 @@ public class UnknownSymbol extends Node {
 			return result;
 		} else {
 			if (computeItem == null) {
-				param = EnvUtil.getParam(name, ctx); // 
+				param = EnvUtil.getParam(name, ctx); // 变量
 				if (param != null) {
 					Object result = Variant.add(param.getValue(), value);
 					param.setValue(result);
@@ -375,12 +375,12 @@ public class UnknownSymbol extends Node {
 				}
 			}
 
-			// һ㻷Ѹı
+			// 第一次运算或运算环境已改变
 			for (LinkEntry<IComputeItem> entry = stack.getStackHeadEntry(); entry != null; entry = entry.getNext()) {
 				IComputeItem item = entry.getElement();
 				Object cur = item.getCurrent();
 				
-				// ֵԪΪnull
+				// 赋值的情况不允许序列首元素为null？
 				if (cur instanceof BaseRecord) {
 					BaseRecord r = (BaseRecord) cur;
 					col = r.getFieldIndex(name);
@@ -394,7 +394,7 @@ public class UnknownSymbol extends Node {
 						return result;
 					}
 				} else if (cur instanceof Sequence) {
-					// ǰԪȡһԪ
+					// 如果当前元素是序列则取其第一个元素
 					if (((Sequence)cur).length() == 0) {
 						computeItem = item;
 						return value;
@@ -423,7 +423,7 @@ public class UnknownSymbol extends Node {
 	}
 
 	public Object move(Move node, Context ctx) {
-		// ϴμʽʱӦлڶջʹϴε
+		// 如果上次计算表达式时对应的序列还在堆栈中则使用上次的
 		ComputeStack stack = ctx.getComputeStack();
 		if (computeItem != null && computeItem.isInStack(stack)) {
 			Current current = (Current)computeItem;
@@ -432,7 +432,7 @@ public class UnknownSymbol extends Node {
 				return null;
 			}
 
-			// ǰԪȡһԪ
+			// 如果当前元素是序列则取其第一个元素
 			Object obj = current.get(pos);
 			if (obj instanceof Sequence) {
 				if (((Sequence)obj).length() == 0) {
@@ -479,15 +479,15 @@ public class UnknownSymbol extends Node {
 			return pos > 0 ? current.get(pos) : null;
 		}
 
-		// ֶ
-		// һ㻷Ѹı
+		// 字段
+		// 第一次运算或运算环境已改变
 		for (LinkEntry<IComputeItem> entry = stack.getStackHeadEntry(); entry != null; entry = entry.getNext()) {
 			IComputeItem item = entry.getElement();
 			if (item instanceof Current) { // series.(...)
 				Current current = (Current) item;
 				Object curObj = current.getCurrent();
 
-				// ǰԪȡһԪ
+				// 如果当前元素是序列则取其第一个元素
 				if (curObj instanceof Sequence) {
 					if (((Sequence)curObj).length() > 0) {
 						curObj = ((Sequence)curObj).get(1);
@@ -564,14 +564,14 @@ public class UnknownSymbol extends Node {
 	}
 
 	public Object moveAssign(Move node, Object value, Context ctx) {
-		 // ϴμʽʱӦлڶջʹϴε
+		 // 如果上次计算表达式时对应的序列还在堆栈中则使用上次的
 		ComputeStack stack = ctx.getComputeStack();
 		if (computeItem != null && computeItem.isInStack(stack)) {
 			Current current = (Current)computeItem;
 			int pos = node.calculateIndex(current, ctx);
 			if (pos < 1) return value;
 
-			 // ǰԪȡһԪ
+			 // 如果当前元素是序列则取其第一个元素
 			Object obj = current.get(pos);
 			if (obj instanceof Sequence) {
 				if (((Sequence)obj).length() == 0) {
@@ -620,15 +620,15 @@ public class UnknownSymbol extends Node {
 			 return value;
 		 }
 
-		 // ֶ
-		 // һ㻷Ѹı
+		 // 字段
+		 // 第一次运算或运算环境已改变
 		for (LinkEntry<IComputeItem> entry = stack.getStackHeadEntry(); entry != null; entry = entry.getNext()) {
 			IComputeItem item = entry.getElement();
 			if (item instanceof Current) { // series.(...)
 				Current current = (Current) item;
 				Object curObj = current.getCurrent();
 
-				// ǰԪȡһԪ
+				// 如果当前元素是序列则取其第一个元素
 				if (curObj instanceof Sequence) {
 					if (((Sequence)curObj).length() > 0) {
 						curObj = ((Sequence)curObj).get(1);
@@ -707,7 +707,7 @@ public class UnknownSymbol extends Node {
 	}
 	
 	public Object moves(Move node, Context ctx) {
-		// ϴμʽʱӦлڶջʹϴε
+		// 如果上次计算表达式时对应的序列还在堆栈中则使用上次的
 		ComputeStack stack = ctx.getComputeStack();
 		if (computeItem != null && computeItem.isInStack(stack)) {
 			Current current = (Current)computeItem;
@@ -742,8 +742,8 @@ public class UnknownSymbol extends Node {
 			return result;
 		}
 
-		// ֶ
-		// һ㻷Ѹı
+		// 字段
+		// 第一次运算或运算环境已改变
 		for (LinkEntry<IComputeItem> entry = stack.getStackHeadEntry(); entry != null; entry = entry.getNext()) {
 			IComputeItem item = entry.getElement();
 			if (item instanceof Current) { // series.(...)
@@ -788,10 +788,10 @@ public class UnknownSymbol extends Node {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -799,9 +799,9 @@ public class UnknownSymbol extends Node {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -818,27 +818,27 @@ public class UnknownSymbol extends Node {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
 		if (!isField) {
-			if (param != null) { // 
+			if (param != null) { // 变量
 				Sequence sequence = ctx.getComputeStack().getTopSequence();
 				return new ConstArray(param.getValue(), sequence.length());
-			} else if (db != null) { // ݿ
+			} else if (db != null) { // 数据库连接
 				Sequence sequence = ctx.getComputeStack().getTopSequence();
 				return new ConstArray(db, sequence.length());
 			}
 			
 			param = EnvUtil.getParam(name, ctx);
-			if (param != null) { // 
+			if (param != null) { // 变量
 				Sequence sequence = ctx.getComputeStack().getTopSequence();
 				return new ConstArray(param.getValue(), sequence.length());
 			}
 			
-			// ݿ
+			// 数据库连接
 			DBSession dbs = ctx.getDBSession(name);
 			if (dbs != null) {
 				Sequence sequence = ctx.getComputeStack().getTopSequence();
@@ -849,7 +849,7 @@ public class UnknownSymbol extends Node {
 			isField = true;
 		}
 		
-		// calculateAllʱջ϶
+		// 调用calculateAll时栈顶对象肯定是序列
 		ComputeStack stack = ctx.getComputeStack();
 		Sequence sequence = stack.getTopSequence();
 		
@@ -869,12 +869,12 @@ public class UnknownSymbol extends Node {
 		DataStruct ds = null;
 		int col = -1;
 		
-		// ҳһǿյĳԱжǷеǰֶ
-		// ԱǼ¼
+		// 找出第一个非空的成员，判断是否含有当前字段
+		// 成员可能是记录或排列
 		for (; i <= len; ++i) {
 			Object mem = sequence.getMem(i);
 			if (mem instanceof Sequence) {
-				// ǰԪȡһԪ
+				// 如果当前元素是序列则取其第一个元素
 				Sequence tmp = (Sequence)mem;
 				if (tmp.length() > 0) {
 					mem = tmp.getMem(1);
@@ -901,17 +901,17 @@ public class UnknownSymbol extends Node {
 				
 				break;
 			} else if (mem != null) {
-				// A.(B.(...))ϲеֶ
+				// A.(B.(...))引用上层排列的字段
 				break;
 			}
 		}
 		
 		if (result != null) {
-			// һǿյĳԱеǰֶ
+			// 第一个非空的成员含有当前字段
 			for (++i; i <= len; ++i) {
 				Object mem = sequence.getMem(i);
 				if (mem instanceof Sequence) {
-					// ǰԪȡһԪ
+					// 如果当前元素是序列则取其第一个元素
 					Sequence tmp = (Sequence)mem;
 					if (tmp.length() > 0) {
 						mem = tmp.getMem(1);
@@ -942,7 +942,7 @@ public class UnknownSymbol extends Node {
 			
 			return result;
 		} else {
-			// A.(B.(...))ϲеֶ
+			// A.(B.(...))引用上层排列的字段
 			Object value = getOuterFieldValue(ctx);
 			result = new ConstArray(value, len);
 			result.setTemporary(true);
@@ -950,9 +950,9 @@ public class UnknownSymbol extends Node {
 		}
 	}
 	
-	// ȡеֵֶ
+	// 取外层排列的字段值
 	private Object getOuterFieldValue(Context ctx) {
-		// ϴμʽʱӦļ¼лڶջʹϴε
+		// 如果上次计算表达式时对应的纪录或序列还在堆栈中则使用上次的
 		ComputeStack stack = ctx.getComputeStack();
 		if (computeItem != null && computeItem.isInStack(stack)) {
 			Object obj = computeItem.getCurrent();
@@ -969,7 +969,7 @@ public class UnknownSymbol extends Node {
 
 				return cur.getNormalFieldValue(col);
 			} else if (obj instanceof Sequence) {
-				// ǰԪȡһԪ
+				// 如果当前元素是序列则取其第一个元素
 				if (((Sequence)obj).length() == 0) {
 					return null;
 				}
@@ -1000,9 +1000,9 @@ public class UnknownSymbol extends Node {
 				throw new RQException(mm.getMessage("Expression.unknownExpression") + name);
 			}
 		} else {
-			// ֶ
-			// һ㻷Ѹı
-			boolean hasNull = false; // ǷеһԱΪ
+			// 字段
+			// 第一次运算或运算环境已改变
+			boolean hasNull = false; // 是否有序列第一个成员为空
 			LinkEntry<IComputeItem> entry = stack.getStackHeadEntry();
 			for (entry = entry.getNext(); entry != null; entry = entry.getNext()) {
 				IComputeItem item = entry.getElement();
@@ -1017,7 +1017,7 @@ public class UnknownSymbol extends Node {
 						return r.getNormalFieldValue(col);
 					}
 				} else if (cur instanceof Sequence) {
-					// ǰԪȡһԪ
+					// 如果当前元素是序列则取其第一个元素
 					if (((Sequence)cur).length() == 0) {
 						computeItem = item;
 						return null;
@@ -1051,8 +1051,8 @@ public class UnknownSymbol extends Node {
 	}
 
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return true;
@@ -3,13 +3,13 @@ package com.scudata.expression;
 import com.scudata.vdb.VDB;
 
 /**
- * ׿Ա
+ * 交易库成员函数基类
  * v.f()
  * @author RunQian
  *
  */
 public abstract class VDBFunction extends MemberFunction {
-	protected VDB vdb; // Դݿ
+	protected VDB vdb; // 源数据库
 	
 	public boolean isLeftTypeMatch(Object obj) {
 		return obj instanceof VDB;
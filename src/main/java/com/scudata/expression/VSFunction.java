@@ -3,7 +3,7 @@ package com.scudata.expression;
 import com.scudata.vdb.IVS;
 
 /**
- * ׿Ա
+ * 交易库成员函数基类
  * h.f()
  * @author RunQian
  *
@@ -3,17 +3,17 @@ package com.scudata.expression;
 import com.scudata.excel.XlsFileObject;
 
 /**
- * xo.func() xlsԴ
+ * xo.func() xls函数派生自此类
  *
  */
 public abstract class XOFunction extends MemberFunction {
 	/**
-	 * xoļ
+	 * xo文件对象
 	 */
 	protected XlsFileObject file;
 
 	/**
-	 * XlsFileObject
+	 * 主对象是XlsFileObject对象的
 	 */
 	public boolean isLeftTypeMatch(Object obj) {
 		return obj instanceof XlsFileObject;
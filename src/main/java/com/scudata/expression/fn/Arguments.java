@@ -9,7 +9,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.expression.Function;
 
 /**
- * صǰĲб
+ * 返回当前网格的参数名列表
  * arguments()
  * @author RunQian
  *
@@ -35,8 +35,8 @@ public class Arguments extends Function {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -46,10 +46,10 @@ public class Arguments extends Function {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
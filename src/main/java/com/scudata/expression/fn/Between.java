@@ -17,7 +17,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * жֵǷڸ
+ * 判断值是否在给定区间内
  * between(x,a:b)
  * @author RunQian
  *
@@ -28,7 +28,7 @@ public class Between extends Function {
 	private Expression endExp;
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -108,8 +108,8 @@ public class Between extends Function {
 	
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -126,7 +126,7 @@ public class Between extends Function {
 		IArray array = exp.calculateAll(ctx);
 		IArray startArray = startExp.calculateAll(ctx);
 		
-		// ֵбȽ
+		// 与左值数组进行比较
 		BoolArray result = array.calcRelation(startArray, leftRelation);
 		IArray endArray = endExp.calculateAll(ctx, result, true);
 		
@@ -153,10 +153,10 @@ public class Between extends Function {
 	}
 
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -174,7 +174,7 @@ public class Between extends Function {
 		IArray array = exp.calculateAll(ctx, result, true);
 		IArray startArray = startExp.calculateAll(ctx, result, true);
 		
-		// ֵбȽ
+		// 与左值数组进行比较
 		array.calcRelations(startArray, leftRelation, result, true);
 		IArray endArray = endExp.calculateAll(ctx, result, true);
 		
@@ -201,9 +201,9 @@ public class Between extends Function {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -219,7 +219,7 @@ public class Between extends Function {
 		IArray array = exp.calculateAll(ctx, result, true);
 		IArray startArray = startExp.calculateAll(ctx, result, true);
 		
-		// ֵбȽ
+		// 与左值数组进行比较
 		array.calcRelations(startArray, leftRelation, result, true);
 		IArray endArray = endExp.calculateAll(ctx, result, true);
 		array.calcRelations(endArray, rightRelation, result, true);
@@ -227,9 +227,9 @@ public class Between extends Function {
 	}
 	
 	/**
-	 * жϸֵΧǷ㵱ǰʽ
-	 * @param ctx 
-	 * @return ȡֵRelation. -1ֵΧûֵ0ֵΧֵ1ֵΧֵ
+	 * 判断给定的值域范围是否满足当前条件表达式
+	 * @param ctx 计算上行文
+	 * @return 取值参照Relation. -1：值域范围内没有满足条件的值，0：值域范围内有满足条件的值，1：值域范围的值都满足条件
 	 */
 	public int isValueRangeMatch(Context ctx) {
 		IArray array = exp.calculateRange(ctx);
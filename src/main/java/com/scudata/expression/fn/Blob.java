@@ -10,14 +10,14 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * blobлÿֽڶӦһԱ
+ * blob数据与数列互换，每字节对应一个成员
  * blob(b)
  * @author RunQian
  *
  */
 public class Blob extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
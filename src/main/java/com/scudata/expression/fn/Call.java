@@ -16,14 +16,14 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ָ񣬷ķֵ෵ֵƴ
- * call(dfx,arg1,) arg1,ļdfxһreturnֵرա
+ * 调用指定网格，返回网格的返回值，多返回值拼成序列
+ * call(dfx,arg1,…) 传入参数arg1,…调用网格文件dfx，返回其第一个return值并关闭。
  * @author RunQian
  *
  */
 public class Call extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -49,7 +49,7 @@ public class Call extends Function {
 		return val;
 	}
 	
-	// ڱdfxҲnull
+	// 在本地找dfx，找不到返回null
 	public String getDfxPathName(Context ctx) {
 		IParam param = this.param;
 		if (!param.isLeaf()) {
@@ -79,7 +79,7 @@ public class Call extends Function {
 		}
 	}
 	
-	// ideȡе
+	// ide用来取被调用网格进行单步跟踪
 	public PgmCellSet getCallPgmCellSet(Context ctx) {
 		IParam param = this.param;
 		boolean useCache = option == null || option.indexOf('r') == -1;
@@ -153,7 +153,7 @@ public class Call extends Function {
 		return pcs;
 	}
 	
-	// ideúôκ
+	// ide结束调用后调用次函数
 	public void finish(PgmCellSet pcs) {
 		if (option == null || option.indexOf('r') == -1) {
 			pcs.reset();
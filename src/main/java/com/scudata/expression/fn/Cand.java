@@ -9,14 +9,14 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * Բִ߼
- * cand(x1,)
+ * 对参数执行逻辑与运算
+ * cand(x1,…)
  * @author RunQian
  *
  */
 public class Cand extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
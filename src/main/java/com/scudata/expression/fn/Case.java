@@ -15,9 +15,9 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * Ҽʽxiķֵxyi
- * ûбʽ򷵻ȱʡֵûȱʡֵ򷵻ؿ
- * case(x,x1:y1,,xk:yk;y)
+ * 从左到右计算表达式，如果有xi的返回值和x的相等则计算yi并返回
+ * 如果没有表达式满足条件，则返回缺省值，没有缺省值则返回空
+ * case(x,x1:y1,…,xk:yk;y)
  * @author RunQian
  *
  */
@@ -33,7 +33,7 @@ public class Case extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -94,8 +94,8 @@ public class Case extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -172,10 +172,10 @@ public class Case extends Function {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -183,9 +183,9 @@ public class Case extends Function {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
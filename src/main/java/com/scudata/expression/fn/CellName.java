@@ -13,7 +13,7 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Скţ1ʼExcel
+ * 用行、列号（从1开始计数）计算Excel格名返回
  * cellname(r, c)
  * @author RunQian
  *
@@ -23,7 +23,7 @@ public class CellName extends Function {
 	private Expression colExp;
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -62,8 +62,8 @@ public class CellName extends Function {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
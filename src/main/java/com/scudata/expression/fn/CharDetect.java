@@ -17,8 +17,8 @@ import org.mozilla.universalchardet.UniversalDetector;
 /***************************************
  * 
  * chardetect@v(p)
- * pΪֵַURLļ
- * ֵֵʱΪString, Ϊ
+ * 参数p，分为字符串，二进制值；URL；文件型
+ * 返回值：单个编码值时为String, 否则为序列
  * 
  * */
 
@@ -79,7 +79,7 @@ public class CharDetect extends CharFunction {
 		}
 		String fullFile = null;
 		
-		// 1. ûõmain
+		// 1. 用户设置的main
 		String path = Env.getMainPath();
 		if (path!=null){
 			fullFile = path+File.separatorChar+sfile;
@@ -89,14 +89,14 @@ public class CharDetect extends CharFunction {
 			}
 		}
 		
-		// 2. ϵͳԴmain
+		// 2. 系统自带的main
 		path = System.getProperty("start.home");
 		fullFile = path+File.separatorChar+"main"+File.separatorChar+sfile;
 		file = new File(fullFile);
 		if (file.exists()){	
 			return UniversalDetector.detectCharset(file);
 		}
-		// 3. ϵͳԴdemo
+		// 3. 系统自带的demo
 		fullFile = path+File.separatorChar+"demo"+File.separatorChar+sfile;
 		file = new File(fullFile);
 		if (file.exists()){	
@@ -111,11 +111,11 @@ public class CharDetect extends CharFunction {
     private static String udetect(byte[] content) {
         UniversalDetector detector = new UniversalDetector(null);
  
-        //ʼһݣѧϰһ°ٷ1000byteңȻ1000byteð֮ģ
+        //开始给一部分数据，让学习一下啊，官方建议是1000个byte左右（当然这1000个byte你得包含中文之类的）
         detector.handleData(content, 0, content.length);
-        //ʶ
+        //识别结束必须调用这个方法
         detector.dataEnd();
-        //ʱ̾ˣַ롣
+        //神奇的时刻就在这个方法了，返回字符集编码。
         return detector.getDetectedCharset();
     }
 	
@@ -144,7 +144,7 @@ public class CharDetect extends CharFunction {
 		return null;
 	}
 	
-	// ͨUrlȡport, warehouse
+	// 通过Url获取主机名，port, warehouse
 	private boolean isMatch(String strUrl, String regExp)
 	{
 		if (strUrl==null || strUrl.isEmpty()){
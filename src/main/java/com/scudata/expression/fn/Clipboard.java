@@ -13,9 +13,9 @@ import com.scudata.expression.IParam;
 import com.scudata.expression.Node;
 
 /**
- * ϵͳݣsʡԴʽؼ
+ * 设置系统剪贴板内容，s省略则以串形式返回剪贴板内容
  * clipboard() clipboard(s)
- * ѡ@e ֵǰϵͳExcelȡò¼
+ * 选项@e 如果发现当前系统剪贴板内容来自Excel，则取过来用并记录下来
  * @author RunQian
  *
  */
@@ -31,7 +31,7 @@ public class Clipboard extends Function {
 		IParam param = this.param;
 		String text = null;
 
-		//ڷExcelԴ
+		//优先于非Excel数据源
 		if (this.option!=null && this.option.contains("e")){
 			text = getClipboardExcelString();
 			if (text!=null && !text.isEmpty()){
@@ -56,7 +56,7 @@ public class Clipboard extends Function {
 	}
 
     /**
-     * ıõ壨ƣ
+     * 把文本设置到剪贴板（复制）
      */
     public void setClipboardString(String text) {
     	java.awt.datatransfer.Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
@@ -65,7 +65,7 @@ public class Clipboard extends Function {
     }
     
     /**
-     * Ӽлȡıճ
+     * 从剪贴板中获取文本（粘贴）
      */
     public String getClipboardString() {
     	java.awt.datatransfer.Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
@@ -88,7 +88,7 @@ public class Clipboard extends Function {
     }
 
     /**
-     * ϵͳжǷExcelݣճ
+     * 从系统剪贴板中判断是否来自Excel的数据（粘贴）
      */
     
     private String getClipboardExcelString() {
@@ -122,7 +122,7 @@ public class Clipboard extends Function {
 						m_lastBufExcelString = new String(text);		
 						//System.out.println(txt);
 						break;
-					}else if(i>9){ //Ҳϴε.
+					}else if(i>9){ //找不到用上次的.
 						break;
 					}					
 				}
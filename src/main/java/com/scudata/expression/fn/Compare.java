@@ -17,7 +17,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ȽֵĴСֵ󷵻1ȷ0ֵС-1
+ * 比较两个值的大小，左值大返回1，相等返回0，左值小返回-1
  * cmp(x,y) cmp(A,B) cmp(A) cmp(A;B)
  * @author RunQian
  *
@@ -27,7 +27,7 @@ public class Compare extends Function {
 	private Expression exp2;
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -60,7 +60,7 @@ public class Compare extends Function {
 			}
 		} else if (result1 instanceof Sequence) {
 			if (param.getType() == IParam.Semicolon) {
-				// cmp(A;B) Aӱļ¼B
+				// cmp(A;B) A可以是子表的记录，主键数多于B
 				Sequence a = (Sequence)result1;
 				if (result2 instanceof Sequence) {
 					Sequence b = (Sequence)result2;
@@ -105,8 +105,8 @@ public class Compare extends Function {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
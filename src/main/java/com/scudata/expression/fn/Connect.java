@@ -16,7 +16,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.EnvUtil;
 
 /**
- * Դ
+ * 创建数据源连接
  * @author runqian
  *
  */
@@ -9,14 +9,14 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * Բִ߼
- * cor(x1,)
+ * 对参数执行逻辑或运算
+ * cor(x1,…)
  * @author RunQian
  *
  */
 public class Cor extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -12,7 +12,7 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
  
 /**
- * create(Fi,...)Fi,ΪֶεĿ
+ * create(Fi,...)产生以Fi,…为字段的空序表
  * @author runqian
  *
  */
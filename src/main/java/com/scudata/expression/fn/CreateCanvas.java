@@ -6,9 +6,9 @@ import com.scudata.expression.*;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ɻ canvas()
- * ж廭ֱڵԪʹcanvas()
- * ĻͼпֱõԪƵû趨ͼ߻ͼ
+ * 生成画布对象 canvas()
+ * 集算器中定义画布，直接在单元格中使用canvas()函数，
+ * 在其后的绘图程序中可以直接用单元格名称调用画布对象，设定绘图参数或者绘图。
  * @author runqian
  *
  */
@@ -14,7 +14,7 @@ import com.scudata.parallel.ClusterCursor;
 import com.scudata.resources.EngineMessage;
 
 /**
- * channel() ܵ
+ * channel() 创建管道
  * @author runqian
  *
  */
@@ -21,9 +21,9 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CellSetUtil;
 
 /**
- * ļִгreturnĽα귵
- * cursor(dfx,)ļִгreturnĽα귵ءdfxжreturnʱ
- * ȺϲreturnĽٽϲĽسα꣬dfxеreturnĽͬݽṹ򱨴
+ * 调用网格文件，将执行程序后return的结果集生成游标返回
+ * cursor(dfx,…)调用网格文件，将执行程序后return的结果集生成游标返回。dfx中有多个return时，
+ * 先合并多个return的结果集，再将合并后的结果集返回成游标，dfx中所有的return的结果集必须具有相同的数据结构，否则报错。
  * @author runqian
  *
  */
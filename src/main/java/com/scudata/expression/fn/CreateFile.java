@@ -19,9 +19,9 @@ import com.scudata.parallel.PartitionUtil;
 import com.scudata.resources.EngineMessage;
 
 /**
- * file(fn:cs) file(fn:cs,h)ļַļ
- * file(fn:z) file(fn:z,h) ļͽڵбȺļԶļ
- * file(fn:z,f) ļͼȺļֲͬļȺļ
+ * file(fn:cs) file(fn:cs,h)由文件名和字符集创建文件
+ * file(fn:z) file(fn:z,h) 由文件名、分区和节点机列表创建集群文件或远程文件
+ * file(fn:z,f) 由文件名和集群文件创建同分布的集群文件
  * @author runqian
  *
  */
@@ -164,7 +164,7 @@ public class CreateFile extends Function {
 				fo = PartitionUtil.locate(mc, pathName, part);
 				fo.setCharset(cs);
 				fo.setOption(option);
-				fo.setContext(ctx);//xq add ¼ǰģҪʹspaceID
+				fo.setContext(ctx);//xq add， 记录当前的上下文，里面要使用spaceID
 			}
 		} else {
 			if (option == null || option.indexOf('t') == -1) {
@@ -13,7 +13,7 @@ import com.scudata.expression.ParamInfo2;
 import com.scudata.resources.EngineMessage;
 
 /**
- * urlķؽװļ
+ * 将url的返回结果封装成文件流
  * httpfile(url:cs, post:cs, content; property:value,....)
  * httpfile(url:cs,post:cs)httpfile(url,post,contenttype)
  * @author runqian
@@ -57,7 +57,7 @@ public class CreatePseudo extends Function {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("pseudo" + mm.getMessage("function.invalidParam"));
 		} else {
-			//õpd
+			//得到pd
 			Object obj = param0.getLeafExpression().calculate(ctx);
 			if (!(obj instanceof Sequence)) {
 				MessageManager mm = EngineMessage.get();
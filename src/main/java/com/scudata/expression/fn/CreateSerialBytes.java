@@ -9,14 +9,14 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ָֽڳȵźš
- * k(n:l) k(ni,)
+ * 生成指定字节长度的排号。
+ * k(n:l) k(ni,…)
  * @author runqian
  *
  */
 public class CreateSerialBytes extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
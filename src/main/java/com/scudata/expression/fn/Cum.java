@@ -11,8 +11,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ѭе㣬ֵֶͬĳԱۻ
- * cum(x; Gi,)	iterate(~~+x;Gi,)
+ * 循环函数中迭代运算，对有相同字段值的成员累积
+ * cum(x; Gi,…)	iterate(~~+x;Gi,…)
  * @author runqian
  *
  */
@@ -27,9 +27,17 @@ public class Cum extends Function {
 		param.optimize(ctx);
 		return this;
 	}
+
+	protected void resetState() {
+		exp = null;
+		gexps = null;
+		prevVal = null;
+		prevGroupVals = null;
+		super.resetState();
+	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
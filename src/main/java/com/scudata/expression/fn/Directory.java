@@ -15,7 +15,7 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * гͨ·ļ directory(path)
+ * 列出满足通配符路径的文件名。 directory(path)
  * @author runqian
  *
  */
@@ -26,7 +26,7 @@ public class Directory extends Function {
 	}
 
 	public Object calculate(Context ctx) {
-		// pathʡʱص[ǰĿ¼,ǰʱĿ¼]
+		// path省略时返回的[当前主目录,当前临时目录]
 		if (param == null) {
 			Sequence seq = new Sequence(2);
 			seq.add(Env.getMainPath());
@@ -69,7 +69,7 @@ public class Directory extends Function {
 				throw new RQException("directory" + mm.getMessage("function.invalidParam"));
 			}
 			
-//			xq ޸partitionΪInteger 2017214
+//			xq 修改partition为Integer 2017年2月14日
 			Integer p = -1;
 			if(partition instanceof Number){
 				p = ((Number)partition).intValue();
@@ -104,7 +104,7 @@ public class Directory extends Function {
 			file = file.getParentFile();
 
 			if (!ignoreCase) {
-				// ݲϵͳȷǲִСд
+				// 根据操作系统名字来确定是不是区分大小写
 				String os = System.getProperty("os.name").toLowerCase();
 				if (os.indexOf("windows") > -1) {
 					ignoreCase = true;
@@ -20,19 +20,19 @@ import com.scudata.resources.EngineMessage;
 
 /**
  * E(x) 
- * xǶʱתɶÿһ¼һǱ⡣
- * xǴΪسָ/TABָеĴȲת
- * x/ʱתɶС
- * xֵExcel/ʱ䡣
- * x/ʱתֵ
+ * x是二层序列时，转换成多行序表，每行一条记录，第一行是标题。
+ * x是串，理解为回车分隔行/TAB分隔列的串，先拆开再转换。
+ * x是序表/排列时，转换成二层序列。
+ * x是数值则按Excel规则的日期/时间。
+ * x是日期/时间则转成数值。
  * 
- * @b ޱ
- * @p תõ
- * @s xʱسɻس/TABָĴ
+ * @b 无标题
+ * @p 二层序列是转置的
+ * @s x是序表时返回成回车/TAB分隔的串
  */
 public class E extends Function {
 	/**
-	 * 
+	 * 计算
 	 */
 	public Object calculate(Context ctx) {
 		final String FUNC_NAME = "E";
@@ -70,26 +70,26 @@ public class E extends Function {
 		boolean isP = opt != null && opt.indexOf("p") != -1;
 		boolean isS = opt != null && opt.indexOf("s") != -1;
 
-		if (x instanceof Number) { // excelʱֵתjavaʱ
+		if (x instanceof Number) { // excel日期时间的数值转成java日期时间
 			Date date = ExcelUtils.excelDateNumber2JavaDate((Number) x);
 			return date;
-		} else if (x instanceof Date) { // javaʱתexcelʱֵ
+		} else if (x instanceof Date) { // java日期时间转成excel日期时间的数值
 			Number excelDateNumber = ExcelUtils
 					.javaDate2ExcelDateNumber((Date) x);
 			return excelDateNumber;
 		} else if (x instanceof Sequence) {
 			Sequence seq = (Sequence) x;
 			if (isS && seq instanceof Table) {
-				// @s xʱسɻس/TABָĴ
+				// @s x是序表时返回成回车/TAB分隔的串
 				return exportS((Table) seq, !isB);
 			}
 			if (seq instanceof Table || seq.isPmt()) {
-				// x/ʱתɶС
+				// x是序表/排列时，转换成二层序列。
 				seq = pmt2Sequence(seq, !isB);
 				return seq;
 			} else if (isSeqSequence(seq)) {
-				// xǶʱתɶÿһ¼һǱ⡣
-				if (isP) { // תõ
+				// x是二层序列时，转换成多行序表，每行一条记录，第一行是标题。
+				if (isP) { // 二层序列是转置的
 					seq = ExcelUtils.transpose(seq);
 				}
 				seq = sequence2Pmt(seq, !isB);
@@ -100,7 +100,7 @@ public class E extends Function {
 						+ mm.getMessage("function.invalidParam"));
 			}
 		} else if (x instanceof String) {
-			// xǴΪسָ/TABָеĴȲת
+			// x是串，理解为回车分隔行/TAB分隔列的串，先拆开再转换。
 			if (!StringUtils.isValidString(x)) {
 				MessageManager mm = EngineMessage.get();
 				throw new RQException(FUNC_NAME
@@ -122,10 +122,10 @@ public class E extends Function {
 	}
 
 	/**
-	 * سָ/TABָеĴת
+	 * 回车分隔行/TAB分隔列的串，转成序表
 	 * 
-	 * @param str      سָ/TABָеĴ
-	 * @param hasTitle Ƿб
+	 * @param str      回车分隔行/TAB分隔列的串
+	 * @param hasTitle 是否有标题行
 	 * @return
 	 */
 	private Sequence importS(String str, boolean hasTitle) {
@@ -141,10 +141,10 @@ public class E extends Function {
 	}
 
 	/**
-	 * תɻس/TABָĴ
+	 * 序表转成回车/TAB分隔的串
 	 * 
-	 * @param t 
-	 * @return س/TABָĴ
+	 * @param t 序表
+	 * @return 回车/TAB分隔的串
 	 */
 	private String exportS(Table t, boolean hasTitle) {
 		String opt = hasTitle ? "t" : null;
@@ -154,11 +154,11 @@ public class E extends Function {
 	}
 
 	/**
-	 * УתΪ
+	 * 将序表或者排列，转换为二层序列
 	 * 
-	 * @param pmt      
-	 * @param hasTitle Ƿб
-	 * @return 
+	 * @param pmt      序表或者排列
+	 * @param hasTitle 是否有标题行
+	 * @return 二层序列
 	 */
 	private Sequence pmt2Sequence(Sequence pmt, boolean hasTitle) {
 		Sequence seq = new Sequence();
@@ -178,11 +178,11 @@ public class E extends Function {
 	}
 
 	/**
-	 * תΪ
+	 * 将二层序列转换为序表
 	 * 
-	 * @param seq      
-	 * @param hasTitle Ƿб
-	 * @return 
+	 * @param seq      二层序列
+	 * @param hasTitle 是否有标题行
+	 * @return 序表
 	 */
 	private Table sequence2Pmt(Sequence seq, boolean hasTitle) {
 		Table t = null;
@@ -235,10 +235,10 @@ public class E extends Function {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否二层序列
 	 * 
-	 * @param seq 
-	 * @return Ƿ
+	 * @param seq 序列
+	 * @return 是否二层序列
 	 */
 	private boolean isSeqSequence(Sequence seq) {
 		if (seq == null)
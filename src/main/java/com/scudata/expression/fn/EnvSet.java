@@ -12,8 +12,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.EnvUtil;
 
 /**
- * ȫֱֵ
- * env@j(v,x) ȫֱvֵΪxxʡɾȫֱʱסvټx֤xvı䡣
+ * 设置全局变量值
+ * env@j(v,x) 给全局变量v赋值为x，x省略则删除该全局变量。计算时先锁住变量v再计算x，保证x计算过程中v不会改变。
  * @author runqian
  *
  */
@@ -23,7 +23,7 @@ public class EnvSet extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
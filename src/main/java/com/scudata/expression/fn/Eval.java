@@ -13,13 +13,13 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ıʽַ㣬ؼ
- * eval(x,) x?1?2ַʽôĲ
+ * 解析传入的表达式字符串并计算，返回计算结果
+ * eval(x,…) 在x中?1、?2这种方式引用传入的参数
  * @author RunQian
  *
  */
 public class Eval extends Function {
-	//Ż
+	//优化
 	public Node optimize(Context ctx) {
 		if (param != null) param.optimize(ctx);
 		return this;
@@ -30,7 +30,7 @@ public class Eval extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -77,12 +77,12 @@ public class Eval extends Function {
 	}
 
 	/**
-	 * ʽ
-	 * @param expStr String ʽַ
-	 * @param arg ISequence ɵУûвɿ
-	 * @param cs ICellSet ʽõɿ
-	 * @param ctx Context ģɿ
-	 * @return Object رʽ
+	 * 计算表达式
+	 * @param expStr String 表达式字符串
+	 * @param arg ISequence 参数构成的序列，没有参数可空
+	 * @param cs ICellSet 表达式用到的网，可空
+	 * @param ctx Context 计算上下文，不可空
+	 * @return Object 返回表达式计算结果
 	 */
 	public static Object calc(String expStr, Sequence arg, ICellSet cs, Context ctx) {
 		Expression exp = new Expression(cs, ctx, expStr);
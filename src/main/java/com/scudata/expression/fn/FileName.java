@@ -14,7 +14,7 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * filename(fn) ȫ·fnеļչݡ
+ * filename(fn) 拆分全路径fn中的文件名和扩展名内容。
  * @author runqian
  *
  */
@@ -16,21 +16,21 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ӳ
- * func(a,arg)ڲѯжӳ󣬾ͿⵥԪнӳĵá  
+ * 调用子程序
+ * func(a,arg)在查询中定义完成子程序后，就可以在任意单元格中进行子程序的调用。  
  * @author runqian
  *
  */
 public class Func extends Function {
-	// һŻmѡ
-	private Expression resultExp; // ˱ʽΪfuncڵıʽ
-	private Expression []paramExps; // ʽ
-	private INormalCell funcCell; // funcڵĵԪ
-	//private String []argNames = null; // 
+	// 一下用于优化m选项
+	private Expression resultExp; // 此表达式为func函数体内的表达式
+	private Expression []paramExps; // 参数表达式数组
+	private INormalCell funcCell; // func所在的单元格
+	//private String []argNames = null; // 参数名数组
 	
 	public class CallInfo {
-		private INormalCell cell; // 庯ʱû֣úڵĵԪ
-		private String fnName; // 庯ʱ
+		private INormalCell cell; // 定义函数时没有起名字，用函数所在的单元格引用
+		private String fnName; // 定义函数时起了名字
 		private Object []args;
 		
 		public CallInfo(INormalCell cell) {
@@ -117,7 +117,7 @@ public class Func extends Function {
 			int endRow = pcs.getCodeBlockEndRow(row, col);
 			int colCount = pcs.getColCount();
 			
-			// ֻŻһʽ
+			// 只优化函数体内有一个表达式的情况
 			
 			for (int r = row; r <= endRow; ++r) {
 				for (int c = col + 1; c <= colCount; ++c) {
@@ -158,9 +158,9 @@ public class Func extends Function {
 	}
 	
 	public Object calculate(Context ctx) {
-		// mѡŻ
+		// 对m选项进行优化
 		if (resultExp != null) {
-			// òֵ
+			// 设置参数值
 			if (paramExps != null) {
 				int paramRow = funcCell.getRow();
 				int paramCol = funcCell.getCol();
@@ -200,7 +200,7 @@ public class Func extends Function {
 		}
 	}
 	
-	// ideȡϢе
+	// ide用来取调用信息进行单步跟踪
 	public CallInfo getCallInfo(Context ctx) {
 		CallInfo callInfo;
 		if (param.isLeaf()) {
@@ -18,22 +18,22 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ѭе㣬ֵֶͬĳԱۻ
- * get(level,F;a:b) ڶѭȡϲĻԱϢA.fn(B.fn(get(1))ʾȡAĵǰѭԱ
- * 					levelΪĲΪ0
- * 					FΪֶ#ʾţʡȡԱ
- * 					a:b[]ͬʡԣѭ޶
+ * 循环函数中迭代运算，对有相同字段值的成员累积
+ * get(level,F;a:b) 在多层循环函数中取出上层的基成员信息。比如A.fn(B.fn(get(1))，表示取A的当前循环成员
+ * 					level为向上数的层数，本层为0；
+ * 					F为字段名，#表示序号，省略取成员；
+ * 					a:b解释与符号[…]相同，可省略；在循环函数外无定义
  * @author runqian
  *
  */
 public class Get extends Function {
 	private int level = -1;
-	private String fieldName; // ҪȡֶΣûFΪ
-	private boolean isSeq; // ǷȡǰѭţfieldNameΪղisSeqΪfalseȡǰѭԱ
+	private String fieldName; // 所要取的字段，如果没有F参数则为空
+	private boolean isSeq; // 是否取当前循环序号，如果fieldName为空并且isSeq为false则取当前循环成员
 	private IParam moveParam;
 	
-	private DataStruct prevDs; // ϴμӦݽṹŻ
-	private int col = -1; // ϴμӦֶŻ
+	private DataStruct prevDs; // 上次计算对应的数据结构，用于性能优化
+	private int col = -1; // 上次计算对应的字段索引，用于性能优化
 	
 	public Node optimize(Context ctx) {
 		if (param != null) param.optimize(ctx);
@@ -104,7 +104,7 @@ public class Get extends Function {
 			throw new RQException(mm.getMessage("function.notInCyclicalFunction", "'get'"));
 		}
 		
-		// ݲȡӦѭ
+		// 根据层取出相应的循环对象
 		int level = this.level;
 		while (level != 0) {
 			level--;
@@ -172,7 +172,7 @@ public class Get extends Function {
 		}
 	}
 	
-	// ȡobjfieldNameֵֶ
+	// 取obj的fieldName字段值
 	private Object getFieldValue(Object obj) {
 		if (obj instanceof BaseRecord) {
 			BaseRecord cur = (BaseRecord)obj;
@@ -187,7 +187,7 @@ public class Get extends Function {
 
 			return cur.getNormalFieldValue(col);
 		} else if (obj instanceof Sequence) {
-			// ǰԪȡһԪ
+			// 如果当前元素是序列则取其第一个元素
 			if (((Sequence)obj).length() == 0) {
 				return null;
 			}
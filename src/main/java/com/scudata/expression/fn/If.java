@@ -27,7 +27,7 @@ public class If extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -42,7 +42,7 @@ public class If extends Function {
 			Object obj = param.getLeafExpression().calculate(ctx);
 			return Boolean.valueOf(Variant.isTrue(obj));
 		} else if (param.getType() == IParam.Semicolon) {
-			// if(x1:y1,,xk:yk;y)
+			// if(x1:y1,…,xk:yk;y)
 			if (param.getSubSize() != 2) {
 				MessageManager mm = EngineMessage.get();
 				throw new RQException("if" + mm.getMessage("function.invalidParam"));
@@ -142,7 +142,7 @@ public class If extends Function {
 					return null;
 				}
 			} else {
-				// if(x1:y1,,xk:yk)
+				// if(x1:y1,…,xk:yk)
 				for (int i = 0; i < size; ++i) {
 					sub = param.getSub(i);
 					if (sub == null || sub.getSubSize() != 2) {
@@ -176,8 +176,8 @@ public class If extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -190,7 +190,7 @@ public class If extends Function {
 				return array.isTrue();
 			}
 		} else if (param.getType() == IParam.Semicolon) {
-			// if(x1:y1,,xk:yk;y)
+			// if(x1:y1,…,xk:yk;y)
 			if (param.getSubSize() != 2) {
 				MessageManager mm = EngineMessage.get();
 				throw new RQException("if" + mm.getMessage("function.invalidParam"));
@@ -292,7 +292,7 @@ public class If extends Function {
 				
 				return calcIf(x, a, b, ctx);
 			} else {
-				// if(x1:y1,,xk:yk)
+				// if(x1:y1,…,xk:yk)
 				Expression []exps = new Expression[size];
 				Expression []valExps = new Expression[size];
 				
@@ -323,10 +323,10 @@ public class If extends Function {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -334,9 +334,9 @@ public class If extends Function {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -14,8 +14,8 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ðľ̬
- * invoke(p.c.f,ai,) ðpcľ̬fpʡԡ
+ * 调用包中类的静态函数
+ * invoke(p.c.f,ai,…) 调用包p中类c的静态函数f，p可省略。
  * @author runqian
  *
  */
@@ -29,7 +29,7 @@ public class Invoke extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -120,7 +120,7 @@ public class Invoke extends Function {
 		return null;
 	}
 	
-	// SequenceתObject
+	// 把Sequence转成Object数组
 	private static Object toJavaObject(Object obj) {
 		if (!(obj instanceof Sequence)) {
 			return obj;
@@ -136,7 +136,7 @@ public class Invoke extends Function {
 		return result;
 	}
 	
-	// ObjectתSequence
+	// 把Object数组转成Sequence
 	private static Object toDMObject(Object obj) {
 		if (!(obj instanceof Object[])) {
 			return obj;
@@ -13,7 +13,7 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * JDBC jdbccall(spl,)ļ޺׺ʱsplx,spl,dfx˳
+ * 函数仅用于JDBC调用 jdbccall(spl,…)。文件名无后缀时，按splx,spl,dfx顺序查找
  */
 public class JDBCCall extends Function {
 	public Node optimize(Context ctx) {
@@ -22,7 +22,7 @@ public class JDBCCall extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -42,7 +42,7 @@ public class JDBCCall extends Function {
 				throw new RQException("jdbccall"
 						+ mm.getMessage("function.paramTypeError"));
 			}
-			// ֧޺׺ʱ˳ļ
+			// 支持无后缀时按顺序查找网格文件
 			try {
 				pcs = AppUtil.readCellSet((String) strObj);
 			} catch (Exception e) {
@@ -50,7 +50,7 @@ public class JDBCCall extends Function {
 			}
 			// FileObject fo = new FileObject((String) strObj, "s");
 			// pcs = fo.readPgmCellSet();
-			// ʹû棬ֻcallû
+			// 不再使用缓存，只有call是用缓存
 			// pcs = dfxManager.removeDfx((String)strObj, ctx);
 		} else {
 			IParam sub0 = param.getSub(0);
@@ -67,7 +67,7 @@ public class JDBCCall extends Function {
 						+ mm.getMessage("function.paramTypeError"));
 			}
 
-			// ֧޺׺ʱ˳ļ
+			// 支持无后缀时按顺序查找网格文件
 			try {
 				pcs = AppUtil.readCellSet((String) strObj);
 			} catch (Exception e) {
@@ -78,7 +78,7 @@ public class JDBCCall extends Function {
 			// FileObject fo = new FileObject((String) strObj, "s");
 			// pcs = fo.readPgmCellSet();
 
-			// ʹû棬ֻcallû
+			// 不再使用缓存，只有call是用缓存
 			// pcs = dfxManager.removeDfx((String)strObj, ctx);
 
 			ParamList list = pcs.getParamList();
@@ -107,7 +107,7 @@ public class JDBCCall extends Function {
 				}
 			}
 		}
-		// ctx wunan 2018-11-14
+		// 增加设置ctx到网格 wunan 2018-11-14
 		Context csCtx = pcs.getContext();
 		csCtx.setEnv(ctx);
 		pcs.calculateResult();
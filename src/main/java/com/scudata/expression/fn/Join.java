@@ -17,10 +17,10 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CursorUtil;
 
 /**
- * в
- * Aiչֶ/ʽxjx1ȵĹϵˣFi,ΪֶεFiΪֶΣ
- * ԭAiеļ¼xjȫʡʱAiĳxj ʡʱƥ䡣
- * join(Ai:Fi,xj,..;) join@x(csi:Fi,xj,..;)
+ * 多序列叉乘
+ * 将多个序列Ai按照关联字段/关联表达式xj和x1相等的关系叉乘，产生以Fi,…为字段的序表，Fi为引用字段，
+ * 引用原排列Ai中的记录，xj全省略时用Ai的主键。某个xj 省略时该项条件不必匹配。
+ * join(Ai:Fi,xj,..;…) join@x(csi:Fi,xj,..;…)
  * @author runqian
  *
  */
@@ -31,7 +31,7 @@ public class Join extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -167,7 +167,7 @@ public class Join extends Function {
 				if (option != null) {
 					if (option.indexOf('1') != -1) {
 						type = 1;
-						if (option.indexOf('f') != -1) { // "1f"ͬʱ
+						if (option.indexOf('f') != -1) { // "1f"不能同时设置
 							MessageManager mm = EngineMessage.get();
 							throw new RQException(option + mm.getMessage("engine.optConflict"));
 						}
@@ -10,9 +10,9 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ͬ
+ * 加同步锁
  * lock(n,s)
- * ֹ߳ͬʱļԺ޴̷߳ʺִУִԺ̲ſԼִС
+ * 防止多个线程同时访问文件，加锁以后仅限此线程访问和执行，访问执行完成以后解锁，其他进程才可以继续访问执行。
  * @author runqian
  *
  */
@@ -23,7 +23,7 @@ public class Lock extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -13,13 +13,13 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡ/гִĳԱ
+ * 取出序列/序表中出现次数最多的成员。
  * @author runqian
  *
  */
 public class Mode extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -12,11 +12,11 @@ import com.scudata.parallel.PartitionUtil;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ƶɾļ
+ * 移动、删除或对文件重命名
  * movefile(fn,path) movefile(fn:z,path)
- * ļfnƶָ·ļpathУpathʡԴļɾpathֻļʱʾļ
+ * 将文件fn移动到指定路径文件path中，path省略代表将文件删除，path只有文件名时表示对文件重命名。
  * movefile(fn:z,h;p,hs)
- * ֻhϵļfnƵhsֻp·£hsУhʡԱhsʡΪp,hsʡɾhpʡԵhsɾhsµļ
+ * 将分机h上的文件fn移到hs分机的p路径下，hs可是序列；h省略本机hs省略为改名，p,hs省略删除；h和p省略但hs不空则删除hs下的文件
  * 
  * @author runqian
  *
@@ -28,7 +28,7 @@ public class MoveFile extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -37,7 +37,7 @@ public class MoveFile extends Function {
 		}
 	}
 
-	// ļƶmovefile(fn:z,path)
+	// 本机文件移动movefile(fn:z,path)
 	private static Object localFileMove(IParam param, String option, Context ctx) {
 		IParam fnParam;
 		String path = null;
@@ -126,7 +126,7 @@ public class MoveFile extends Function {
 		}
 	}
 	
-	// Ⱥļƶmovefile(fn:z,h;p,hs)
+	// 集群文件移动movefile(fn:z,h;p,hs)
 	private static Object clusterFileMove(IParam param, String option, Context ctx) {
 		if (param.getSubSize() != 2) {
 			MessageManager mm = EngineMessage.get();
@@ -139,9 +139,9 @@ public class MoveFile extends Function {
 			throw new RQException("movefile" + mm.getMessage("function.invalidParam"));
 		}
 		
-		String srcFile; // Դļ
-		int part = -1; // ֱ
-		String host = null; // Դļڽڵ
+		String srcFile; // 源文件
+		int part = -1; // 分表号
+		String host = null; // 源文件所在节点机
 		int port = -1;
 		IParam fnParam;
 		
@@ -217,8 +217,8 @@ public class MoveFile extends Function {
 			}
 		}
 		
-		String path = null; // Ŀ·
-		Machines hs = null; // Ŀ
+		String path = null; // 目标路径
+		Machines hs = null; // 目标机器
 		IParam rightParam = param.getSub(1);
 		if (rightParam == null) {
 		} else if (rightParam.isLeaf()) {
@@ -12,8 +12,8 @@ import com.scudata.expression.ParamInfo2;
 import com.scudata.resources.EngineMessage;
 
 /**
- * һ¼
- * new(xi:Fi,) һֶΪFiֵֶΪxiļ¼
+ * 生成一条记录
+ * new(xi:Fi,…) 生成一条字段名称为Fi字段值为xi的记录。
  * @author runqian
  *
  */
@@ -24,7 +24,7 @@ public class New extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -8,14 +8,14 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ĳԱֵĸӼ
- * ntile(i,k,n) ȻϷֳӼϳΪkļݣiԱڵڼӼ
+ * 计算某个成员分到哪个子集合
+ * ntile(i,k,n) 自然数集合分成子集合长度为k的几份，计算第i个成员在第几个子集合中
  * @author runqian
  *
  */
 public class Ntile extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -9,7 +9,7 @@ import com.scudata.resources.EngineMessage;
 
 public class Nvl extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -13,8 +13,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ̨ӡϢ
- * output@g@t(x,) һϢʱöŸ̨ĴӡϢTabָ
+ * 向控制台输出打印信息
+ * output@g@t(x,…) 可输出一个或多个变量信息，多个时用逗号隔开，控制台输出的打印信息以Tab分隔。
  * @author runqian
  *
  */
@@ -25,7 +25,7 @@ public class Output extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -11,10 +11,10 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ѭе㣬ֵֶͬĵĳԱͳһ
- * ranki(F; Gi,)	iterate(if(F==F[-1],~~,~~+1); Gi,)
- * ѭУGiֵֶͬζFֵֶͬĳԱ1ʼţFֵֶͬʱŲ仯
- * Fֵֶ仯ʱż1Giֵֶ仯ظ㡣
+ * 循环函数中迭代运算，对有相同字段值的的成员统一编号
+ * ranki(F; Gi,…)	iterate(if(F==F[-1],~~,~~+1); Gi,…)
+ * 用于循环函数中，如果Gi字段值相同，则依次对F字段值相同的成员从1开始编号，F字段值相同时，编号不发生变化，
+ * F字段值发生变化时，编号加1。如果Gi字段值发生变化，则重复上述运算。
  * @author runqian
  *
  */
@@ -30,9 +30,18 @@ public class Ranki extends Function {
 		param.optimize(ctx);
 		return this;
 	}
+
+	protected void resetState() {
+		exp = null;
+		gexps = null;
+		prevVal = null;
+		prevRank = null;
+		prevGroupVals = null;
+		super.resetState();
+	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
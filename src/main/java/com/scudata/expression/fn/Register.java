@@ -10,10 +10,10 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * dfxļǼΪ
+ * 将dfx文件登记为函数
  * register(f,dfx) 
- * ǼdfxļΪf֮úűʹãʽдΪf(xi,...)xi,...ΪdfxļеĲ
- * öŷָ
+ * 登记dfx文件为函数f，之后该函数便可以在网格脚本中使用，函数表达式写法为：f(xi,...)，其中xi,...为dfx文件中的参数，
+ * 多个参数间用逗号分隔。
  * @author runqian
  *
  */
@@ -23,7 +23,7 @@ public class Register extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -11,9 +11,9 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ѭе㣬ֵֶͬĳԱ
- * seq(Gi,)	iterate(~~+1; Gi,) 
- * ѭУֶGiֵͬĳԱ1ʼţֶGi仯ʱŴ1¿ʼ
+ * 循环函数中迭代运算，对有相同字段值的成员编号
+ * seq(Gi,…)	iterate(~~+1; Gi,…) 
+ * 用于循环函数中，给字段Gi值相同的成员从1开始编号，当字段Gi发生变化时遍号从1重新开始。
  * @author runqian
  *
  */
@@ -26,6 +26,13 @@ public class Seq extends Function {
 		if (param != null) param.optimize(ctx);
 		return this;
 	}
+
+	protected void resetState() {
+		gexps = null;
+		prevSeq = null;
+		prevGroupVals = null;
+		super.resetState();
+	}
 		
 	private void prepare(IParam param, Context ctx) {
 		if (param == null) {
@@ -8,7 +8,7 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * sleep(n) ˯״̬n
+ * sleep(n) 将集算器处于睡眠状态n毫秒
  * @author runqian
  *
  */
@@ -19,7 +19,7 @@ public class Sleep extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -23,8 +23,8 @@ import com.scudata.server.unit.ShutdownUnitServer;
 
 /**
  * splserver(port,cfg)
- *    /ֹͣϵSPḶҵ˿portϣportʡ
- * cfgΪļʡԱʾֹportϵĽ
+ *    启动/停止本机上的SPL进程；挂到端口port上，port不能省略
+ * cfg为启动配置文件名，省略表示中止port上的进程
  */
 public class SplServer extends Function {
 	String host = "127.0.0.1";
@@ -140,9 +140,9 @@ public class SplServer extends Function {
 	public static String getStartCmd(SplServerConfig ssc,String host, int port,String cfg) {
 //		String startName;
 //		if (isWindows()) {
-//				startName = "bin/ServerConsole.bat";//ڴڿ̨
+//				startName = "bin/ServerConsole.bat";//黑窗口控制台
 //		} else {
-//				startName = "bin/ServerConsole.sh";//ڴڿ̨
+//				startName = "bin/ServerConsole.sh";//黑窗口控制台
 //		}
 //		String serverPath = getAbsolutePath(ssc.splHome+path("/esProc"),startName);
 //		File f = new File(serverPath);
@@ -165,7 +165,7 @@ public class SplServer extends Function {
 		}
 		
 		String SPL_HOME = path(ssc.splHome);
-		boolean addQuote = SPL_HOME.indexOf(' ')>0;//鿴·Ƿпոпո·
+		boolean addQuote = SPL_HOME.indexOf(' ')>0;//查看路径中是否有空格，如果有空格则给命令串的路径加上引号
 		String JAVA_HOME = SPL_HOME+path("/common");
 		String EXEC_JAVA = JAVA_HOME+path("/jre/bin/java");
 		String RAQ_LIB = ifAddQuote(SPL_HOME+path("/esProc/lib/*"),addQuote)+seperator+ifAddQuote(SPL_HOME+path("/common/jdbc/*"),addQuote);
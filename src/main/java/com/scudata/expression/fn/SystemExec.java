@@ -16,9 +16,9 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ϵͳִϺ󷵻ءbatexeļ
+ * 调用系统命令，执行完毕后返回。例如打开bat和exe文件。
  * system(cmd) system(cmd1, cmd2, ...)
- * ĿǰִֻһcmdִжcmdѶcmdдbatļ, ͨcmdbatļ
+ * 目前只能执行一条cmd命令。如果想执行多条cmd命令，则把多条cmd命令写入bat文件中, 通过cmd命令调用bat文件。
  * @author runqian
  *
  */
@@ -54,7 +54,7 @@ public class SystemExec extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -14,19 +14,19 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ɣT(fn,A;Fi,;s)
- * £T(fn:A,Fi,;s)
- * ļչļسtxt/csv/xls/xlsx/btx/ctx
- * ıʱsǷָxlsʱsΪsheet Aʱ/αAд룬滻д
+ * 旧：T(fn,A;Fi,…;s)
+ * 新：T(fn:A,Fi,…;s)
+ * 根据文件扩展名读出文件返回成序表，txt/csv/xls/xlsx/btx/ctx
+ * 文本时s是分隔符，xls时s为sheet名 有A时排列/游标A将写入，用替换写
  * 
- * @b ûб⣬ȱʡΪб
- * @c α
+ * @b 没有标题，缺省认为有标题
+ * @c 读成游标
  * 
  *
  */
 public class T extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -43,21 +43,21 @@ public class T extends Function {
 		
 		if (param.getType() == IParam.Semicolon) {
 			int subParamCount = param.getSubSize();
-			if (subParamCount == 3) { // T(fn,A;Fi,;s)
+			if (subParamCount == 3) { // T(fn,A;Fi,…;s)
 				isOldParam = true;
 				fnParam = param.getSub(0);
 				fieldParam = param.getSub(1);
 				sParam = param.getSub(2);
 			} else if (subParamCount == 2) {
-				// T(fn,A;Fi,)T(fn:A,Fi,;s)
+				// T(fn,A;Fi,…)或者T(fn:A,Fi,…;s)
 				fnParam = param.getSub(0);
 				IParam sub2 = param.getSub(1);
 				if (sub2 != null && sub2.getType() == IParam.Comma) {
-					// T(fn,A;Fi,)
+					// T(fn,A;Fi,…)
 					isOldParam = true;
 					fieldParam = param.getSub(1);
 				} else {
-					// T(fn:A,Fi,;s)
+					// T(fn:A,Fi,…;s)
 					sParam = param.getSub(1);
 				}
 			} else {
@@ -66,7 +66,7 @@ public class T extends Function {
 						+ mm.getMessage("function.invalidParam"));
 			}
 		} else {
-			fnParam = param; // fn:A,Fi,...fn,A
+			fnParam = param; // fn:A,Fi,...或者fn,A
 		}
 		if (fnParam == null) {
 			MessageManager mm = EngineMessage.get();
@@ -74,7 +74,7 @@ public class T extends Function {
 		}
 		IParam aParam = null;
 		if (fnParam.getType() == IParam.Comma) {
-			if (fnParam.getSubSize() == 2) { // fn:A,Fi,...fn,A
+			if (fnParam.getSubSize() == 2) { // fn:A,Fi,...或者fn,A
 				IParam fnSub1 = fnParam.getSub(0);
 				IParam fnSub2 = fnParam.getSub(1);
 				if (fnSub1 == null) {
@@ -162,13 +162,13 @@ public class T extends Function {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("T" + mm.getMessage("function.missingParam"));
 		}
-		String fileName = (String) fn; // ļ
+		String fileName = (String) fn; // 计算后的文件名
 
 		if (StringUtils.isValidString(fields)) {
-			// T(fn:A,Fi,;s)
+			// T(fn:A,Fi,…;s)
 		} else if (fieldParam != null) {
 			if (fieldParam.isLeaf()) {
-				// ﲻȡgetIdentifierName
+				// 这里不取getIdentifierName，保留单引号
 				fields = fieldParam.getLeafExpression().toString(); // getIdentifierName
 			} else {
 				StringBuffer buf = new StringBuffer();
@@ -201,7 +201,7 @@ public class T extends Function {
 		boolean isCursor = opt != null && opt.indexOf("c") != -1;
 
 		StringBuffer buf = new StringBuffer();
-		buf.append("file(" + fnStr + ")."); // ԭʼĴ
+		buf.append("file(" + fnStr + ")."); // 用原始的串
 		byte fileType = getFileType(fileName);
 		if (fileType == TYPE_EXCEL) {
 			String sopt = "";
@@ -212,12 +212,12 @@ public class T extends Function {
 				if (hasTitle)
 					sopt += "t";
 			}
-			if (A == null) { // 
+			if (A == null) { // 导入
 				buf.append("xlsimport" + sopt + "(");
 				if (fields != null) {
 					buf.append(fields);
 				}
-			} else { // 
+			} else { // 导出
 				buf.append("xlsexport" + sopt + "(");
 				buf.append(A);
 				if (fields != null) {
@@ -235,7 +235,7 @@ public class T extends Function {
 			if (hasTitle) {
 				sopt = "@t";
 			}
-			if (A == null) { // 
+			if (A == null) { // 导入
 				buf.append("create().cursor" + sopt + "(");
 				if (fields != null) {
 					buf.append(fields);
@@ -244,7 +244,7 @@ public class T extends Function {
 				if (!isCursor) {
 					buf.append(".fetch()");
 				}
-			} else {// 
+			} else {// 导出
 				buf.append("create(");
 				if (fields != null) {
 					buf.append(fields);
@@ -269,7 +269,7 @@ public class T extends Function {
 				}
 				buf.append(").append(");
 				buf.append(A);
-				buf.append(").close()"); // ҪcloseŻдļ
+				buf.append(").close()"); // 需要close才会写出到文件中
 			}
 		} else {
 			boolean isCsv = fileType == TYPE_CSV;
@@ -284,7 +284,7 @@ public class T extends Function {
 				if (hasTitle)
 					sopt += "t";
 			}
-			if (A == null) { // 
+			if (A == null) { // 导入
 				if (isCursor) {
 					buf.append("cursor");
 				} else {
@@ -300,7 +300,7 @@ public class T extends Function {
 						buf.append(s);
 					}
 				buf.append(")");
-			} else {// 
+			} else {// 导出
 				buf.append("export" + sopt + "(");
 				buf.append(A);
 				if (fields != null) {
@@ -318,7 +318,7 @@ public class T extends Function {
 		return exp.calculate(ctx);
 	}
 
-	/** δ֪ */
+	/** 未知 */
 	private static final byte TYPE_UNKNOWN = 0;
 	/** excel */
 	private static final byte TYPE_EXCEL = 1;
@@ -332,15 +332,15 @@ public class T extends Function {
 	private static final byte TYPE_TXT = 5;
 
 	/**
-	 * ȡļ
+	 * 取文件类型
 	 * 
 	 * @param fileName
-	 *            ļ
-	 * @return ϳеһ
+	 *            文件名
+	 * @return 返回以上常量中的一种
 	 */
 	private byte getFileType(String fileName) {
 		if (fileName == null)
-			return TYPE_UNKNOWN; // ǰѾжϿˣӦó
+			return TYPE_UNKNOWN; // 前面已经判断空了，不应该出现
 		fileName = Escape.removeEscAndQuote(fileName);
 		if (fileName.toLowerCase().endsWith(".xls")
 				|| fileName.toLowerCase().endsWith(".xlsx")) {
@@ -11,9 +11,9 @@ import com.scudata.resources.EngineMessage;
 
 
 /**
- * һ
- * to(a, b) ab֮ɵ
- * to(n) 1nȻɵ
+ * 生成一组数列
+ * to(a, b) 生成由a和b之间的连续整数组成的数列
+ * to(n) 生成由1到n的连续自然数组成的数列
  * @author runqian
  *
  */
@@ -24,7 +24,7 @@ public class To extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
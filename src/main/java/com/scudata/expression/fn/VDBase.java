@@ -18,7 +18,7 @@ import com.scudata.vdb.VDB;
 
 public class VDBase extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
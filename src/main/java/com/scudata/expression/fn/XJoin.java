@@ -17,9 +17,9 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * xjoin(Ai:Fi,xi;)
- * AiһֶFi,ɣÿFiԭAiһԱ˹У
- * ˳AixiĳԱ
+ * xjoin(Ai:Fi,xi;…)
+ * 将Ai排列无条件叉乘起来，组成一个新序表，新序表由字段Fi,…组成，每个Fi引用原序列Ai的一个成员。叉乘过程中，
+ * 过滤出Ai中满足条件xi的成员
  * @author runqian
  *
  */
@@ -30,7 +30,7 @@ public class XJoin extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -8,13 +8,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ʽ
+ * 矩阵求行列式
  * @author bd
  *
  */
 public class Det extends Function{
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -35,7 +35,7 @@ public class Det extends Function{
 		
 		Matrix A = new Matrix((Sequence) result1);
 		if (A.getCols() == 0 || A.getRows() == 0) {
-			// վʽ1
+			// 空矩阵，行列式返回1
 			return 1;
 		}
 		
@@ -9,12 +9,12 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ֮ŷϾdis(A, B)
+ * 两个向量之间的欧氏距离dis(A, B)
  * @author bd
  */
 public class Distance extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -47,7 +47,7 @@ public class Distance extends Function {
 			Object o1 = sub1.getLeafExpression().calculate(ctx);
 			Object o2 = sub2.getLeafExpression().calculate(ctx);
 			if (o1 instanceof Sequence && o2 instanceof Sequence) {
-				// edited by bd, 2021.11.17, disУΪǺ
+				// edited by bd, 2021.11.17, 在dis函数中，单层序列认为是横向量
 				Sequence s1 = (Sequence) o1;
 				Sequence s2 = (Sequence) o2;
 				Matrix A = new Matrix(s1);
@@ -56,11 +56,11 @@ public class Distance extends Function {
 				Object o11 = s1.length() > 0 ? s1.get(1) : null;
 				Object o21 = s2.length() > 0 ? s2.get(1) : null;
 				if (!(o11 instanceof Sequence)) {
-					// AΪжתɺ
+					// A为单序列定义的向量，转成横向量
 					A = A.transpose();
 				}
 				if (!(o21 instanceof Sequence)) {
-					// AΪжתɺ
+					// A为单序列定义的向量，转成横向量
 					B = B.transpose();
 				}
 				
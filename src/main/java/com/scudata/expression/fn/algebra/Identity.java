@@ -9,7 +9,7 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * λi(n)
+ * 单位矩阵函数i(n)
  * @author bd
  */
 public class Identity extends Function {
@@ -19,7 +19,7 @@ public class Identity extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -9,13 +9,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * inverse(A)棬ֻзʱ, inverse@p(A)αоAαBABA=BBAB=A޽ʱС˷
+ * 矩阵求逆inverse(A)求逆，只有方阵满秩时有逆矩阵, inverse@p(A)伪逆矩阵，所有矩阵A都有伪逆矩阵B，满足ABA=B，BAB=A，无解时用最小二乘法
  * @author bd
  *
  */
 public class Inverse extends Function{
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -59,7 +59,7 @@ public class Inverse extends Function{
 		}
 		catch (Exception e) {
 			if (auto) {
-				// A޷ʱα
+				// A无法求逆时，求伪逆矩阵
 				X = A.pseudoinverse();
 			}
 			else {
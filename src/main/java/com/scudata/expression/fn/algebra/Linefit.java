@@ -9,13 +9,13 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ϣʵ൱ڽⷽAX=YAΪϵYΪ
- * AΪm*mʱΨһ⣻AΪm*nm>nʱС˷Ͻ
+ * 矩阵线性拟合，这个函数其实相当于解方程AX=Y，其中A为系数矩阵，Y为常数矩阵
+ * 当A为m*m矩阵且满秩时，方程有唯一解；当A为m*n矩阵，m>n且列满秩时，用最小二乘法做线性拟合解
  * @author bd
  */
 public class Linefit extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -10,9 +10,9 @@ import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
 
 /**
- * ࣬ṩĸ
- * еľʹебʾһ㲻
- * added by bd, 2021.1.15, 
+ * 矩阵基本类，提供矩阵的各类计算
+ * 集算器中的矩阵使用数列的序列表示，一般不检查
+ * added by bd, 2021.1.15, 用这个类兼容向量
  * @author bidalong
  *
  */
@@ -20,7 +20,7 @@ public class Matrix {
 
 	private double[][] A;
 	private int rows, cols;
-	//added by bd, 2021.1.15, Ƿ洢Ϊло
+	//added by bd, 2021.1.15, 是否是向量，向量会存储为单行或单列矩阵
 	private boolean ifVector = false;
 	
 	public Matrix(int rs, int cs) {
@@ -30,8 +30,8 @@ public class Matrix {
 	}
 	
 	/**
-	 * ʼ
-	 * @param value	άʾľֵ
+	 * 初始化矩阵
+	 * @param value	二维数组表示的矩阵值
 	 */
 	/*
 	protected Matrix(SimpleMatrix smatrix) {
@@ -47,16 +47,16 @@ public class Matrix {
 	*/
 	
 	/**
-	 * ʼһmatrixгȲȣ󳤶0
-	 * matrixвΪУд
+	 * 初始化一个矩阵，如果matrix中序列长度不等，将按最大长度设置列数，其它补0
+	 * 如果matrix中不为序列，按单列处理
 	 * @param matrix
 	 */
 	public Matrix(Sequence matrix) {
 		int rows = matrix == null ? 0 : matrix.length();
 		if (rows > 0) {
 			if (matrix instanceof Table) {
-				//added by bd, 2021.1.22, Ӷ֧
-				// ά, 
+				//added by bd, 2021.1.22, 添加对序表的支持
+				// 二维数组, 序表
 				Table tab = (Table) matrix;
 				this.cols = tab.dataStruct().getFieldCount();
 				this.rows = rows;
@@ -78,9 +78,9 @@ public class Matrix {
 					}
 				}
 				if (cols == 0) {
-					// һУΪһݣ
-					// edited by bd, 2021.1.15, ֻᱻΪԶ֪
-					// edited by bd, 2021.2.25, ΪĬһЩ[[1,2,3]]
+					// 单一序列，视为一行数据，
+					// edited by bd, 2021.1.15, 只有这种情况会被视为向量，纵向量不会自动认知
+					// edited by bd, 2021.2.25, 向量改为默认纵向量，这样定义简单一些，横向量用[[1,2,3]]这样
 					cols = 1;
 					this.ifVector = false;
 					this.A = new double[rows][1];
@@ -116,7 +116,7 @@ public class Matrix {
 	}
 	
 	/**
-	 * ȡһһάΪdouble飬ֵȫ0
+	 * 读取一个一维序列为double数组，非数值型全按0计
 	 * @param seq
 	 * @return
 	 */
@@ -136,7 +136,7 @@ public class Matrix {
 	}
 	
 	/**
-	 * ȡһһάΪdouble飬ֵȫ0
+	 * 读取一个一维序列为double数组，非数值型全按0计
 	 * @param seq
 	 * @return
 	 */
@@ -151,7 +151,7 @@ public class Matrix {
 	}
 	
 	/*
-	 * һObjectתΪdouble
+	 * 将一个Object转换为double返回
 	 */
 	private static double getNumber(Object obj) {
 		double d = 0;
@@ -173,7 +173,7 @@ public class Matrix {
 	}
 	
 	/**
-	 * ȡ, added by bd, 2021.1.15
+	 * 对于向量，获取向量数据, added by bd, 2021.1.15
 	 * @return
 	 */
 	protected double[] getVector() {
@@ -193,9 +193,9 @@ public class Matrix {
 	}
 	
 	/**
-	 * ʼһ
-	 * @param vector		
-	 * @param vertical	ǷfalseʱΪ
+	 * 初始化一个向量矩阵
+	 * @param vector		生成向量的序列
+	 * @param vertical	是否纵向量，false时为横向量
 	 */
 	protected Matrix(double[] vector, boolean vertical) {
 		int size = vector == null ? 0 : vector.length;
@@ -217,9 +217,9 @@ public class Matrix {
 	}
 	
 	/**
-	 * ʼһ
-	 * @param vector		
-	 * @param vertical	ǷfalseʱΪ
+	 * 初始化一个向量矩阵
+	 * @param vector		生成向量的序列
+	 * @param vertical	是否纵向量，false时为横向量
 	 */
 	protected Matrix(Sequence vector, boolean vertical) {
 		int size = vector == null ? 0 : vector.length();
@@ -249,10 +249,10 @@ public class Matrix {
 	}
 
 	/**
-	 * ʼһ
-	 * @param A		ά
-	 * @param rows	ӦöӦA
-	 * @param cols		ӦöӦA
+	 * 初始化一个向量矩阵
+	 * @param A		二维数组
+	 * @param rows	行数，应该对应A
+	 * @param cols		列数，应该对应A
 	 */
 	public Matrix(double[][] A) {
 		this.A = A;
@@ -269,10 +269,10 @@ public class Matrix {
 	}
 
 	/**
-	 * ʼһ
-	 * @param A		ά
-	 * @param rows	ӦöӦA
-	 * @param cols		ӦöӦA
+	 * 初始化一个向量矩阵
+	 * @param A		二维数组
+	 * @param rows	行数，应该对应A
+	 * @param cols		列数，应该对应A
 	 */
 	public Matrix(double[][] A, int rows, int cols) {
 		this.A = A;
@@ -281,9 +281,9 @@ public class Matrix {
 	}
 	
 	/**
-	 * תΪУرģֻһԱʱֱӷ
-	 * Ϊdoubleʱɵ봦
-	 * added by bd 2021.1.22, ӲΪ
+	 * 将矩阵转为序列，特别的，只有一个成员时直接返回数据
+	 * 为避免double运算时造成的误差，做四舍五入处理
+	 * added by bd 2021.1.22, 添加参数允许返回为无列名序表
 	 * @return
 	 */
 	public Object toSequence(String option, boolean real) {
@@ -309,7 +309,7 @@ public class Matrix {
 	        return tbl;
 		}
 		if (this.rows == 1 && this.cols == 1) {
-			// ֻһԱֱӷ
+			// 如果只有一个成员，直接返回
 			return this.A[0][0];
 		}
 		/*
@@ -326,7 +326,7 @@ public class Matrix {
 		double scale = Math.pow(10, pow);
 		*/
 		if (ifv && this.rows == 1) {
-			//edited by bd, 2021.2.25, ֻһУҼаʱ
+			//edited by bd, 2021.2.25, 当结果只有一列，且计算数中包含向量时，返回数列
 			Sequence sub = new Sequence(this.cols);
 			for (int c = 0; c < this.cols; c++) {
 				double d = getValue(0, c, real);
@@ -335,7 +335,7 @@ public class Matrix {
 			return sub;
 		}
 		else if (ifv && this.cols == 1) {
-			//added by bd, 2021.2.25, ֻһУҼаʱ
+			//added by bd, 2021.2.25, 当结果只有一列，且计算数中包含向量时，返回数列
 			Sequence sub = new Sequence(this.rows);
 			for (int r = 0; r < this.rows; r++) {
 				double d = getValue(r, 0, real);
@@ -356,7 +356,7 @@ public class Matrix {
 	}
 	
 	/*
-	 * ޸ľĳֵadded by bd, 2021.4.8
+	 * 修改矩阵中某个值，added by bd, 2021.4.8
 	 */
 	public void set(int r, int c, double v) {
 		this.A[r][c] = v;
@@ -367,7 +367,7 @@ public class Matrix {
 	private double getValue(int r, int c, boolean real) {
 		double d = this.A[r][c];
 		if (!real) {
-			// added by bd, 2022.5.1, ֵ̫Сԭֵ
+			// added by bd, 2022.5.1, 如果绝对值太小，则保留原值
 			double abs = Math.abs(d);
 			double scale1 = Matrix.scale;
 			if (abs < range) {
@@ -388,39 +388,39 @@ public class Matrix {
 	}
 
 	/**
-	 * ȡ
-	 * @return	
+	 * 获取行数
+	 * @return	矩阵行数
 	 */
 	public int getRows() {
 		return this.rows;
 	}
 
 	/**
-	 * ȡ
-	 * @return	
+	 * 获取列数
+	 * @return	矩阵列数
 	 */
 	public int getCols() {
 		return this.cols;
 	}
 
 	/**
-	 * ȡά
-	 * @return	Ķά
+	 * 获取二维数组
+	 * @return	矩阵的二维数组
 	 */
 	public double[][] getArray() {
 		return this.A;
 	}
 	
 	/**
-	 * ǰЭ
+	 * 求当前矩阵的协方差矩阵
 	 * @return
 	 */
 	public Matrix covm() {
 		Matrix X = new Matrix(this.cols, this.cols);
 		double[][] xs = X.getArray();
-		// ά飬Aת
+		// 各个维度数组，用A转置
 		double[][] dims = this.transpose().getArray();
-		// άȵľֵ
+		// 各个维度的均值
 		double[] dimv = new double[this.cols];
 		for (int i = 0; i < this.cols; i++) {
 			double[] dim = dims[i];
@@ -433,11 +433,11 @@ public class Matrix {
 		for (int i = 0; i < this.cols; i++) {
 			for (int j = 0; j < this.cols; j++) {
 				if (i > j) {
-					// Ѿ
+					// 已经计算过的
 					xs[i][j] = xs[j][i];
 				}
 				else if (i == j) {
-					// ԽϵЭ
+					// 对角线上的协方差
 					double cov = 0;
 					for (int k = 0; k < this.rows; k++) {
 						cov += Math.pow(this.A[k][i] - dimv[i], 2);
@@ -445,7 +445,7 @@ public class Matrix {
 					xs[i][j] = cov/(this.rows - 1);
 				}
 				else {
-					// ǵЭ
+					// 右上三角的协方差
 					double cov = 0;
 					for (int k = 0; k < this.rows; k++) {
 						cov += (this.A[k][i] - dimv[i]) * (this.A[k][j] - dimv[j]);
@@ -458,7 +458,7 @@ public class Matrix {
 	}
 	
 	/**
-	 * þһ
+	 * 用矩阵数据来生成一个序表
 	 * @return
 	 */
 	protected Table toTable() {
@@ -477,12 +477,12 @@ public class Matrix {
 	}
 
 	/**
-	 * ȡӾ
-	 * @param r		ȡĸк
-	 * @param j0	ʼк
-	 * @param j1	к
-	 * @return		ָλõӾ
-	 * @exception	쳣
+	 * 获取子矩阵
+	 * @param r		需取出的各行号
+	 * @param j0	起始列好
+	 * @param j1	结束列号
+	 * @return		指定位置的子矩阵
+	 * @exception	异常
 	 */
 	protected Matrix getMatrix(int[] r, int j0, int j1) {
 		Matrix X = new Matrix(r.length, j1 - j0 + 1);
@@ -500,13 +500,13 @@ public class Matrix {
 	}
 
 	/**
-	 * ȡӾ
-	 * @param r0	ʼкţ0ʼ
-	 * @param r1	кţӾ
-	 * @param c0	ʼкţ0ʼ
-	 * @param c1	кţӾ
-	 * @return		ӵǰнȡӾ
-	 * @exception	г޴
+	 * 获取子矩阵
+	 * @param r0	起始行号，从0开始
+	 * @param r1	结束行号，包括在子矩阵中
+	 * @param c0	起始列号，从0开始
+	 * @param c1	结束列号，包括在子矩阵中
+	 * @return		从当前矩阵中截取子矩阵
+	 * @exception	行列超限错误
 	 */
 	public Matrix getMatrix(int r0, int r1, int c0, int c1) {
 		Matrix X = new Matrix(r1 - r0 + 1, c1 - c0 + 1);
@@ -524,10 +524,10 @@ public class Matrix {
 	}
 	
 	/**
-	 * Ӿлȡָеdouble
-	 * @param matrix	ʹебʾ
-	 * @param r			кţ0ʼ
-	 * @param c			кţ0ʼ
+	 * 从矩阵中获取指定行列的数，返回double
+	 * @param matrix	矩阵，使用数列的序列表示
+	 * @param r			行号，从0开始
+	 * @param c			列号，从0开始
 	 * @return
 	 */
 	protected static double get(Sequence matrix, int r, int c) {
@@ -545,10 +545,10 @@ public class Matrix {
 	}
 	
 	/**
-	 * жǷ󣬲Ǿ󷵻nullǾ󷵻ɵ
-	 * @param matrix	
-	 * @param ifNumerical	ǷжϳԱΪֵ
-	 * @return	Ƿ
+	 * 判断是否矩阵，不是矩阵返回null，是矩阵返回行列数构成的数组
+	 * @param matrix	矩阵
+	 * @param ifNumerical	是否判断成员为数值
+	 * @return	是否矩阵
 	 */
 	protected static int[] ifMatrix(Sequence matrix, boolean ifNumerical) {
 		int rows = matrix == null ? 0 : matrix.length();
@@ -584,18 +584,18 @@ public class Matrix {
 	}
 	
 	/**
-	 * жǷ󣬲Ǿ󷵻nullǾ󷵻ɵ
-	 * @return	ʵǷ
+	 * 判断是否矩阵，不是矩阵返回null，是矩阵返回行列数构成的数组
+	 * @return	本实例是否矩阵
 	 */
 	protected boolean ifMatrix() {
 		return this.A != null;
 	}
 	
 	/**
-	 * жǷǷ󷵻ط()
-	 * @param matrix	
-	 * @param ifNumerical	ǷжϳԱΪֵ
-	 * @return	Ƿ
+	 * 判断是否方阵，是方阵返回方阵的行列数(相等)
+	 * @param matrix	矩阵
+	 * @param ifNumerical	是否判断成员为数值
+	 * @return	是否方阵
 	 */
 	protected static int ifSquare(Sequence matrix, boolean ifNumerical) {
 		int rows = matrix == null ? 0 : matrix.length();
@@ -626,7 +626,7 @@ public class Matrix {
 	}
 	
 	/**
-	 * жǷ
+	 * 判断是否方阵
 	 * @return
 	 */
 	protected boolean ifSquare() {
@@ -634,7 +634,7 @@ public class Matrix {
 	}
 
 	/**
-	 * ת
+	 * 转置
 	 * @return
 	 */
 	public Matrix transpose(){
@@ -648,7 +648,7 @@ public class Matrix {
 	}
 
 	/**
-	 * תãmatrixڷصnull
+	 * 转置，如果matrix不满，则在返回的序列中用null补齐
 	 * @param matrix
 	 * @return
 	 */
@@ -694,9 +694,9 @@ public class Matrix {
 	}
 
 	/**
-	 * ȡָλõж
-	 * @param i		к
-	 * @param j		к
+	 * 获取矩阵中指定位置的数，不做超限判断
+	 * @param i		行号
+	 * @param j		列号
 	 * @return
 	 */
 	public double get(int r, int c) {
@@ -704,7 +704,7 @@ public class Matrix {
 	}
 
 	/**
-	 * Ƿȣܶ㶼ҪӦִ
+	 * 检查两个矩阵的行数列数是否相等，很多矩阵运算都需要对应才能执行
 	 * @param B
 	 */
 	private void checkMatrixSize(Matrix B) {
@@ -714,9 +714,9 @@ public class Matrix {
 	}
 
 	/**
-	 * ӣC=A+B
-	 * @param B		ִмӷľ
-	 * @return		ӵĽ
+	 * 矩阵相加，C=A+B
+	 * @param B		用来执行加法的矩阵
+	 * @return		矩阵相加的结果
 	 */
 	public Matrix plus(Matrix B) {
 		checkMatrixSize(B);
@@ -731,7 +731,7 @@ public class Matrix {
 
 
 	/**
-	 * ÿԱƽ
+	 * 矩阵中每个成员计算平方
 	 * @return		
 	 */
 	public Matrix elementSquare() {
@@ -745,7 +745,7 @@ public class Matrix {
 	}
 
 	/**
-	 * ÿԱܺ
+	 * 矩阵中每个成员的总和
 	 * @return		
 	 */
 	public double elementSum() {
@@ -759,7 +759,7 @@ public class Matrix {
 	}
 
 	/**
-	 * ڻ
+	 * 用来计算向量的内积
 	 * @return		
 	 */
 	public double dot(Matrix B) {
@@ -773,9 +773,9 @@ public class Matrix {
 	}
 	
 	/**
-	 * ӣ¼ڱУA = A + B
-	 * @param B		ִмӷľ
-	 * @return		ӵĽ
+	 * 矩阵相加，结果记录在本矩阵中，A = A + B
+	 * @param B		用来执行加法的矩阵
+	 * @return		矩阵相加的结果
 	 */
 
 	protected Matrix plusUp(Matrix B) {
@@ -789,9 +789,9 @@ public class Matrix {
 	}
 
 	/**
-	 * ӣC=A-B
-	 * @param B		ִмľ
-	 * @return		Ľ
+	 * 矩阵相加，C=A-B
+	 * @param B		用来执行减法的矩阵
+	 * @return		矩阵相减的结果
 	 */
 	public Matrix minus(Matrix B) {
 		checkMatrixSize(B);
@@ -805,8 +805,8 @@ public class Matrix {
 	}
 
 	/**
-	 * ʵC=A+d
-	 * @param d		ִмӷʵ
+	 * 矩阵加实数，C=A+d
+	 * @param d		用来执行加法的实数
 	 * @return		
 	 */
 	public Matrix plus(double d) {
@@ -820,8 +820,8 @@ public class Matrix {
 	}
 
 	/**
-	 * ʵC=A-d
-	 * @param d		ִмʵ
+	 * 矩阵减实数，C=A-d
+	 * @param d		用来执行减法的实数
 	 * @return		
 	 */
 	protected Matrix minus(double d) {
@@ -835,8 +835,8 @@ public class Matrix {
 	}
 
 	/**
-	 * ʵC=A*d
-	 * @param d		ִмӷʵ
+	 * 矩阵乘实数，C=A*d
+	 * @param d		用来执行加法的实数
 	 * @return		
 	 */
 	protected Matrix times(double d) {
@@ -850,9 +850,9 @@ public class Matrix {
 	}
 
 	/**
-	 * ¼ڱУA=A-B
-	 * @param B		ִмľ
-	 * @return		Ľ
+	 * 矩阵相减，结果记录在本矩阵中，A=A-B
+	 * @param B		用来执行减法的矩阵
+	 * @return		矩阵相减的结果
 	 */
 	protected Matrix minusEquals(Matrix B) {
 		checkMatrixSize(B);
@@ -865,10 +865,10 @@ public class Matrix {
 	}
 
 	/**
-	 * 
-	 * @param B		˵ľ
-	 * @return		˵Ľ
-	 * @exception	쳣
+	 * 矩阵相乘
+	 * @param B		用来相乘的矩阵
+	 * @return		矩阵相乘的结果矩阵
+	 * @exception	异常
 	 */
 	public Matrix times(Matrix B) {
 		if (B.rows != this.cols) {
@@ -893,10 +893,10 @@ public class Matrix {
 	}
 
 	/**
-	 * Գ
-	 * @param d		
-	 * @return		
-	 * @exception	쳣
+	 * 矩阵除以常数
+	 * @param d		除数
+	 * @return		结果矩阵
+	 * @exception	异常
 	 */
 	public Matrix divide(double d) {
 		Matrix X = new Matrix(this.rows, this.cols);
@@ -909,10 +909,10 @@ public class Matrix {
 	}
 
 	/**
-	 * ɵλ
-	 * @param rows		
-	 * @param cols		
-	 * @return			rows*cols󣬶ԽΪ1Ϊ0
+	 * 生成单位矩阵
+	 * @param rows		行数
+	 * @param cols		列数
+	 * @return			返回rows*cols矩阵，对角线上为1，其它为0
 	 */
 	protected static Matrix identity(int rows, int cols) {
 		Matrix X = new Matrix(rows, cols);
@@ -925,22 +925,22 @@ public class Matrix {
 	}
 
 	/**
-	 * ɵλ
-	 * @param size		
-	 * @return			size*sizeľ󣬶ԽΪ1Ϊ0
+	 * 生成单位方阵
+	 * @param size		行数
+	 * @return			返回size*size的矩阵，对角线上为1，其余为0
 	 */
 	protected static Matrix identity(int size) {
 		return identity(size, size);
 	}
 
 	/**
-	 * A*X = B
-	 * @param		B
-	 * @return		ֱ⣬С˷
+	 * 求解A*X = B
+	 * @param		矩阵参数B
+	 * @return		方阵直接求解，其它情况返回最小二乘法解
 	 */
 
 	public Matrix solve(Matrix B) {
-		//edited by bd, 2020.3.10, еֻϢжϣnull
+		//edited by bd, 2020.3.10, 矩阵运算中的问题只输出错误信息，不中断，返回null
 		Matrix result = null;
 		try {
 			result = (this.rows == this.cols ?
@@ -954,8 +954,8 @@ public class Matrix {
 	}
 
 	/**
-	 * ƶάA
-	 * @return	ƵĶά
+	 * 复制二维数组A
+	 * @return	复制的二维数组
 	 */
 	public double[][] getArrayCopy() {
 		double[][] X = new double[this.rows][this.cols];
@@ -968,7 +968,7 @@ public class Matrix {
 	}
 	
 	/**
-	 * α
+	 * 求逆矩阵或者伪逆矩阵
 	 * @return
 	 */
 	public Matrix inverse() {
@@ -976,7 +976,7 @@ public class Matrix {
 	}
 	
 	/**
-	 * α
+	 * 求伪逆矩阵
 	 * @return
 	 */
 	public Matrix pseudoinverse() {
@@ -986,7 +986,7 @@ public class Matrix {
     	//Matrix pinv = new Matrix(sm);
     	//return pinv;
 		
-		// ȣֱQRֽ⣬תúαתû
+		// 如果列满秩，直接用QR分解，否则转置后求伪逆矩阵再转置回来
 		if (this.rows >= this.cols) {
 			return (new QRDecomposition(this)).solve(identity(this.rows));
 		}
@@ -997,7 +997,7 @@ public class Matrix {
 	}
     
     /**
-     * SimpleMatrix
+     * 创建SimpleMatrix
      * @return
      */
     public RealMatrix realMatrix() {
@@ -1005,11 +1005,11 @@ public class Matrix {
     }
 	   
 	/**
-	 * ʽֵ
-	 * @return	ʽֵ
+	 * 方阵求行列式值
+	 * @return	行列式值
 	 */
 	public double det() {
-		//edited by bd, 2020.3.10, еֻϢжϣnull
+		//edited by bd, 2020.3.10, 矩阵运算中的问题只输出错误信息，不中断，返回null
 		if (this.rows != this.cols) {
 			//throw new IllegalArgumentException("Matrix must be square.");
 			Logger.warn("Matrix must be square.");
@@ -1063,20 +1063,20 @@ public class Matrix {
 	}
 
 	/**
-	 * ؾȣֵֽ⴦
-	 * @return	
+	 * 返回矩阵的秩，用奇异值分解处理
+	 * @return	矩阵的秩
 	 */
 	public int rank() {
 	      return new SVDecomposition(this).rank();
 	}
 	
 	/**
-	 * һı׼ABͬά
-	 * @param B		һ
-	 * @return		׼
+	 * 计算和另一个矩阵的标准差，A与B必须同维
+	 * @param B		另一矩阵
+	 * @return		标准方差
 	 */
 	public double mse(Matrix B) {
-		//edited by bd, 2020.3.10, еֻϢжϣnull
+		//edited by bd, 2020.3.10, 矩阵运算中的问题只输出错误信息，不中断，返回null
 		try {
 			Matrix X = this.minus(B);
 			double result = 0;
@@ -1094,12 +1094,12 @@ public class Matrix {
 	}
 	
 	/**
-	 * һľABͬά
-	 * @param B		һ
-	 * @return		
+	 * 计算和另一个矩阵的绝对误差，A与B必须同维
+	 * @param B		另一矩阵
+	 * @return		绝对误差
 	 */
 	public double mae(Matrix B) {
-		//edited by bd, 2020.3.10, еֻϢжϣnull
+		//edited by bd, 2020.3.10, 矩阵运算中的问题只输出错误信息，不中断，返回null
 		try {
 			Matrix X = this.minus(B);
 			double result = 0;
@@ -1117,7 +1117,7 @@ public class Matrix {
 	}
 	
 	/**
-	 * Ƿ洢Ϊло
+	 * 是否是向量，向量存储为单行或单列矩阵
 	 * @return
 	 */
 	public boolean ifVector() {
@@ -1125,8 +1125,8 @@ public class Matrix {
 	}
 
 	/**
-	 * ¾ʹ¾ÿһеľֵΪ0
-	 * @param matrix	Դ
+	 * 生成新矩阵，使得新矩阵每一列的均值为0
+	 * @param matrix	源矩阵
 	 * @return
 	 */
     public Matrix changeAverageToZero() {
@@ -1148,8 +1148,8 @@ public class Matrix {
     }
 
 	/**
-	 * ¾ʹ¾ÿһеľֵΪ0
-	 * @param matrix	Դ
+	 * 生成新矩阵，使得新矩阵每一列的均值为0
+	 * @param matrix	源矩阵
 	 * @return
 	 */
     public Matrix changeAverageToZero(Vector averageV) {
@@ -1164,12 +1164,12 @@ public class Matrix {
     }
     
     /**
-     * ȡÿеľֵ
+     * 获取每列的均值向量
      * @param primary	
      * @return
      */
     public Vector getAverage() {
-        // ֵĻľ
+        // 均值中心化后的矩阵
         double[] sum = new double[this.cols];
         double[] average = new double[this.cols];
         for (int c = 0; c < this.cols; c++) {
@@ -8,13 +8,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * norm(A)Ĺһnormalize
+ * norm(A)，矩阵或者向量的归一化normalize处理
  * @author bd
  *
  */
 public class Normalize extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -33,7 +33,7 @@ public class Normalize extends Function {
 			throw new RQException("norm" + mm.getMessage("function.paramTypeError"));
 		}
 		boolean norm = option == null || option.indexOf('0')<0;
-		//edited by bd, 2021.12.21, ޸㷨@sѡֱ֧׼һʱֵ0׼Ϊ1
+		//edited by bd, 2021.12.21, 修改算法，添加@s选项支持标准归一，此时均值0，标准差为1
 		boolean std = option != null && option.indexOf('s')>-1;
 		Matrix A = normalize((Sequence) result1, norm, std);
 		return A.toSequence(option, true);
@@ -41,7 +41,7 @@ public class Normalize extends Function {
 	
 	protected Matrix normalize(Sequence result, boolean norm, boolean std) {
 		Matrix A = new Matrix(result);
-		// Ϊо
+		// 处理向量为单行矩阵
 		Object o1 = result.get(1);
 		if (! (o1 instanceof Sequence)) {
 			A = A.transpose(); 
@@ -9,13 +9,13 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ƥѷϵpearson(A,B)Bʡʱto(A.len())֧@r@aѡ
+ * 计算皮尔逊系数pearson(A,B)，B省略时用to(A.len())，支持@r和@a选项
  * @author bd, 2021.1.19
  *
  */
 public class Pearson extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -25,7 +25,7 @@ public class Pearson extends Function {
 	}
 	
 	public Object calculate(Context ctx) {
-		//жûзֺźĲ
+		//先判断有没有分号后的参数
 		int setn = 0;
 		IParam param = this.param;
 		if (param.getType() == IParam.Semicolon) {
@@ -97,7 +97,7 @@ public class Pearson extends Function {
 				n = setn;
 			}
 			if (ifR2) {
-				//@rѡ
+				//@r选项
 				v1 = Normalize.normalize(v1);
 				v2 = Normalize.normalize(v2);
 			}
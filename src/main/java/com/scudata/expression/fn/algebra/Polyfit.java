@@ -10,13 +10,13 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * polyfit(A,B,n)nζʽXY
- * ̻ͨⷨöʽϵ
+ * 处理函数polyfit(A,B,n)，用n次多项式拟合向量X和Y
+ * 通过解法方程获得多项式系数
  * @author bd
  */
 public class Polyfit extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -55,7 +55,7 @@ public class Polyfit extends Function {
 				Sequence B = (Sequence) o2;
 				int size = A.length();
 				if (size != B.length()) {
-					// ͬά
+					// 不同维
 					MessageManager mm = EngineMessage.get();
 					Logger.warn("polyfit" + mm.getMessage("function.paramTypeError"));
 					return null;
@@ -80,11 +80,11 @@ public class Polyfit extends Function {
 				for (int i = 0; i < n+1; i++) {
 					for (int j = 0; j < n+1; j++) {
 						if (i > j) {
-							// Ѿ
+							// 已经计算过的
 							ps[i][j] = ps[j][i];
 						}
 						else {
-							// Խϼǵϵ
+							// 对角线上及右上三角的系数
 							double p = 0;
 							for (int k = 0; k < size; k++) {
 								p += Math.pow(as[k], i+j);
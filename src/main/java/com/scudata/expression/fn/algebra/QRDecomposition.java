@@ -1,29 +1,29 @@
 package com.scudata.expression.fn.algebra;
 
 /**
- * Ƿֽ⴦
+ * 矩阵的正交三角分解处理
  * @author bd
  */
 public class QRDecomposition {
-	// QRֽrows*colsľԷֽΪQǾRˣrows>=cols
-	// 		QΪcols*cols󣬼Q^T*Q=Q*Q^T=I
-	//		RΪrows*colsǾֵ¼·0
+	// QR分解矩阵，rows*cols的矩阵可以分解为正交矩阵Q和上三角矩阵R相乘，rows>=cols
+	// 		其中Q为cols*cols的正交矩阵，即Q^T*Q=Q*Q^T=I
+	//		R为rows*cols的上三角矩阵，右上有值，左下及下方都是0
 	private double[][] QR;
 	private int rows, cols;
 	//
 	private double[] Rdiag;
 	
 	protected QRDecomposition(Matrix A) {
-		// QRֽʼ.
+		// QR分解初始化.
 		this.QR = A.getArrayCopy();
 		this.rows = A.getRows();
 		this.cols = A.getCols();
 		this.Rdiag = new double[this.cols];
 
-		// ѭ
+		// 循环各列
 		for (int k = 0; k < this.cols; k++) {
 			double nrm = 0d;
-			// 㱾
+			// 计算本列
 			for (int r = k; r < this.rows; r++) {
 				nrm = Math.hypot(nrm, QR[r][k]);
 			}
@@ -54,8 +54,8 @@ public class QRDecomposition {
 	}
 	
 	/**
-	 * ʹQRֽжϾǷ
-	 * @return	Ƿ
+	 * 使用QR分解判断矩阵是否满秩
+	 * @return	是否满秩
 	 */
 	protected boolean isFullRank() {
 		for (int c = 0; c < this.cols; c++) {
@@ -67,10 +67,10 @@ public class QRDecomposition {
 	}
 
 	/**
-	 * С˷ A*X = B
-	 * @param B		B
+	 * 最小二乘法解 A*X = B
+	 * @param B		矩阵参数B
 	 * @return		X that minimizes the two norm of Q*R*X-B.
-	 * @exception	쳣
+	 * @exception	异常
 	 */
 	protected Matrix solve(Matrix B) {
 		if (B.getRows() != this.rows) {
@@ -8,13 +8,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ʽ
+ * 矩阵求行列式
  * @author bd
  *
  */
 public class Rankm extends Function{
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -34,7 +34,7 @@ public class Rankm extends Function{
 		}
 		Matrix A = new Matrix((Sequence) result1);
 		if (A.getCols() == 0 || A.getRows() == 0) {
-			// վȷ0
+			// 空矩阵的秩返回0
 			return 0;
 		}
 		return A.rank();
@@ -1,21 +1,21 @@
 package com.scudata.expression.fn.algebra;
 
 /**
- * ֵֽ⴦
+ * 矩阵的奇异值分解处理
  * @author bd
  */
 public class SVDecomposition {
-	//m*nA=UV*UΪm*mϾV*ΪVĹתãn*nϾ
+	//对于m*n矩阵，A=UΣV*，U为m*m酉矩阵，V*为V的共轭转置，n*n酉矩阵
 	private double[][] U, V;
-	//m*nеֵ
+	//半正定m*n矩阵Σ中的奇异值
 	private double[] s;
 
-	// 
+	// 矩阵的行列数
 	private int rows, cols;
 
 	/**
-	 * ʼ
-	 * @param A		
+	 * 初始化
+	 * @param A		矩阵
 	 */
 	public SVDecomposition(Matrix matrix) {
 		// Initialize.
@@ -384,7 +384,7 @@ public class SVDecomposition {
 	}
 
 	/**
-	 * ֵԽǾ
+	 * 返回奇异值对角矩阵
 	 * @return S
 	 */
 	public Matrix getS() {
@@ -9,13 +9,13 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ˹Ƥϵspearman(A,B)Bʡʱto(A.len())
+ * 计算斯皮尔曼系数spearman(A,B)，B省略时用to(A.len())
  * @author bd, 2021.1.19
  *
  */
 public class Spearman extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
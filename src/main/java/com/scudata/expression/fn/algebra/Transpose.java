@@ -8,13 +8,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ת
+ * 矩阵转置
  * @author bd
  *
  */
 public class Transpose extends Function{
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -32,7 +32,7 @@ public class Transpose extends Function{
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("transpose" + mm.getMessage("function.paramTypeError"));
 		}
-		// תãıԱͣתúһȱʧֵ0d
+		// 单纯用序列转置，不改变成员数据类型，但转置后矩阵一定会填满，缺失值用0d
 		Sequence seq = (Sequence) result1;
 		int rows = seq.length();
 		int cols = 0;
@@ -45,7 +45,7 @@ public class Transpose extends Function{
 		Double zero = Double.valueOf(0);
 		if (cols == 0) {
 			Sequence result = new Sequence(rows);
-			// һλУֻתʽ
+			// 一位序列，只需转成列式就行
 			for (int r = 1; r <= rows; r++ ) {
 				Object o = seq.get(r);
 				Sequence sub = new Sequence(1);
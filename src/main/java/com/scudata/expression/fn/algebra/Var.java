@@ -8,12 +8,12 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * V巽, ʹ@sѡʱ
+ * 向量V的总体方差, 使用@s选项时返回样本方差
  * @author bd
  */
 public class Var extends Function{
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -7,16 +7,16 @@ public class Vector {
 	private double[] vector;
 	
 	/**
-	 * ʼ
-	 * @param value	ʾֵ
+	 * 初始化向量
+	 * @param value	数组表示的向量值
 	 */
 	public Vector(double[] value) {
 		this.vector = value;
 	}
 	
 	/**
-	 * ʼ
-	 * @param value	άʾľֵ
+	 * 初始化矩阵
+	 * @param value	二维数组表示的矩阵值
 	 */
 	public Vector(Sequence seq) {
 		if (seq.length() > 0){
@@ -25,7 +25,7 @@ public class Vector {
 	}
 	
 	/**
-	 * 
+	 * 向量长度
 	 * @return
 	 */
 	public int len() {
@@ -34,8 +34,8 @@ public class Vector {
 	}
 	
 	/**
-	 * ָţȡԱֵֵ0
-	 * @param i	ţ0ʼ
+	 * 指定序号，获取向量成员值，空值返回0
+	 * @param i	序号，从0开始
 	 * @return
 	 */
 	public double get(int i) {
@@ -46,7 +46,7 @@ public class Vector {
 	}
 	
 	/**
-	 * ȡ
+	 * 获取数组
 	 * @return
 	 */
 	public double[] getValue() {
@@ -54,7 +54,7 @@ public class Vector {
 	}
     
     /**
-     * з
+     * 生成序列返回
      * @return
      */
     public Sequence toSequence() {
@@ -8,14 +8,14 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ʽַ
- * format (s,) ɴʾsĲͨJavaʽʹ͵תһַ
+ * 创建格式化的字符串
+ * format (s,…) 生成串，…表示s的参数，通过Java格式操作，使任意类型的数据转换成一个字符串。
  * @author runqian
  *
  */
 public class Format extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -7,13 +7,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ifdate(exp) жexpǷΪͻʱ
+ * ifdate(exp) 判定参数exp是否为日期型或日期时间类型
  * @author runqian
  *
  */
 public class IfDate extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -7,13 +7,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ifnumber(Exp) жExpǷΪֵ
+ * ifnumber(Exp) 判定参数Exp是否为数值类型
  * @author runqian
  *
  */
 public class IfNumber extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
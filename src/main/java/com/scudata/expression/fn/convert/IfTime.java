@@ -7,13 +7,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * iftime(exp) жexpǷΪʱ
+ * iftime(exp) 判定exp是否为时间类型
  * @author runqian
  *
  */
 public class IfTime extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -13,7 +13,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.EnvUtil;
 
 /**
- * ifv(name) Ƿ
+ * ifv(name) 变量是否存在
  * @author RunQian
  *
  */
@@ -24,7 +24,7 @@ public class IfVariable extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -7,13 +7,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * isalpha(s) жַsǷȫĸɡsΪΪasciiж϶ӦַǷΪĸ
+ * isalpha(s) 判定字符串s是否全由字母构成。如果s为整数，则作为ascii码判断对应的字符是否为字母。
  * @author runqian
  *
  */
 public class IsAlpha extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -7,13 +7,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * isdigit(string) жַstringǷȫֹɡstringΪΪascii룬ж϶ӦַǷΪ֡
+ * isdigit(string) 判定字符串string是否全由数字构成。如果string为整数，则作为ascii码，判断对应的字符是否为数字。
  * @author runqian
  *
  */
 public class IsDigit extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
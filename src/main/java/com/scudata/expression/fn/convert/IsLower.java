@@ -7,14 +7,14 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * islower(string) жַstringǷȫСдĸɡ
- * stringΪΪascii룬жӦַǷΪСдĸ
+ * islower(string) 判定字符串string是否全由小写字母构成。
+ * 如果string为整数，则作为ascii码，判断其对应的字符是否为小写字母。
  * @author runqian
  *
  */
 public class IsLower extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
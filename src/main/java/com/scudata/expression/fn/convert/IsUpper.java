@@ -7,14 +7,14 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * isupper(string) жַstringǷȫɴдĸɡ
- * stringΪΪascii룬жӦַǷΪдĸ
+ * isupper(string) 判定字符串string是否全由大写字母构成。
+ * 如果string为整数，则作为ascii码，判断其对应的字符是否为大写字母。
  * @author runqian
  *
  */
 public class IsUpper extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -4,20 +4,23 @@ import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.BaseRecord;
 import com.scudata.dm.Context;
+import com.scudata.dm.FileObject;
 import com.scudata.dm.Sequence;
+import com.scudata.dm.cursor.JSONCursor;
 import com.scudata.expression.Expression;
 import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 import com.scudata.util.JSONUtil;
 
 /**
- * json(x) xjsonʽʱxأxǼ¼ʱjsonʽء
+ * json(x) 当x是json格式串时，将x解析成序表返回；当x是记录或序列时，解析成json格式串返回。
+ * 当x是文件时，返回边读边解析的游标，文件可以是json数组或者每行一个json对象
  * @author runqian
  *
  */
 public class Json extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -39,6 +42,8 @@ public class Json extends Function {
 				Expression exp = new Expression(cs, ctx, (String)val);
 				return exp.calculate(ctx);
 			}
+		} else if (val instanceof FileObject) {
+			return new JSONCursor((FileObject)val, option, ctx);
 		} else if (val instanceof Sequence) {
 			return JSONUtil.toJSON((Sequence)val);
 		} else if (val instanceof BaseRecord) {
@@ -10,13 +10,13 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * parse(s) ַs󣬰ַӦ͡
+ * parse(s) 分析字符串s后，把字符串解析成相应的数据类型。
  * @author runqian
  *
  */
 public class Parse extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -37,7 +37,7 @@ public class Parse extends Function {
 		String str = (String)obj;
 		if (option != null) {
 			if (option.indexOf('q') != -1) {
-				int start = 0; // ʼλã˿հǲſͷ
+				int start = 0; // 起始位置，除了空白外是不是以引号开头
 				int len = str.length();
 				for (; start < len; ++start) {
 					char c = str.charAt(start);
@@ -70,7 +70,7 @@ public class Parse extends Function {
 					}
 				}
 			} else if (option.indexOf('n') != -1) {
-				int start = 0; // ʼλãǰпհ׷֧.-ʼ
+				int start = 0; // 起始位置，前面可以有空白符，支持以.或-开始
 				int len = str.length();
 				for (; start < len; ++start) {
 					char c = str.charAt(start);
@@ -13,14 +13,14 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡַָλַunicodeֵ
- * asc( string{, nPos} ) ȡַstringָλnPosַunicodeֵasciiַ򷵻ascii롣
+ * 取字符串中指定位置字符的unicode值。
+ * asc( string{, nPos} ) 取字符串string指定位置nPos的字符unicode值，如果是ascii字符则返回ascii码。
  * @author runqian
  *
  */
 public class ToAsc extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -79,8 +79,8 @@ public class ToAsc extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -14,15 +14,15 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ֵַ͵ֵתɴ󸡵
- * decimal(stringExp) stringExpֺСɵַ
- * decimal(numberExp) numberExpֻڵ64λ64λҪַstringExp numberExp
+ * 将字符串或数值型的数值转换成大浮点数
+ * decimal(stringExp) 参数stringExp必须是由数字和小数点组成的字符串。
+ * decimal(numberExp) 参数numberExp只能少于等于64位，超过64位就要用字符串stringExp 代替numberExp。
  * @author runqian
  *
  */
 public class ToBigDecimal extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -50,8 +50,8 @@ public class ToBigDecimal extends Function {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
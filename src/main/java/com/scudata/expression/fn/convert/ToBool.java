@@ -11,14 +11,14 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * bool(expression) ʽexpressionתΪ͡
- * ת򣺵ֵΪnullַ"false"(С)ֵfalseʱfalse򷵻true
+ * bool(expression) 将表达式expression的数据类型转换为布尔型。
+ * 转换规则：当参数值为null、字符串"false"(大小敏感)、布尔值false时返回false，否则返回true。
  * @author runqian
  *
  */
 public class ToBool extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -48,8 +48,8 @@ public class ToBool extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -10,13 +10,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * תȡֵʽֵַе֣ת32λ
+ * 类型转换函数，取出给定数值表达式或数值字符串中的整数部分，并把其数据类型转换成32位整数。
  * @author runqian
  *
  */
 public class ToInteger extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -50,8 +50,8 @@ public class ToInteger extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -11,16 +11,16 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ַתӦʵ
- * number( x )number( x, y )
- * number( x, "format" )ڶǴʽ
- * xתͷܣûyyʱ򷵻null򷵻y
+ * 将字符串转换成相应的实数
+ * number( x )或number( x, y )
+ * number( x, "format" )如果第二个参数是串则当做格式
+ * 如果x能转成数就返回数，如果不能，没y或y不是数的时候返回null，否则返回y
  * @author runqian
  *
  */
 public class ToNumber extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -13,15 +13,15 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * תַ
+ * 将对象的数据类型转换成字符型
  * string(expression{, format}:loc) 
- * תַͣתпԸʽlocΪԣʱãȱʡʹϵͳԡ
+ * 将对象的数据类型转换成字符型，转换过程中可以格式化；loc为语言，仅对日期时间适用，缺省使用系统语言。
  * @author runqian
  *
  */
 public class ToString extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -115,8 +115,8 @@ public class ToString extends Function {
 
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
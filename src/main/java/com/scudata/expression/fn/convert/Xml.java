@@ -11,13 +11,13 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.XMLUtil;
 
 /**
- * xml(x,s) xΪxmlʱΪأxΪʱΪxmlء
+ * xml(x,s) 当x为xml串时，解析为序表返回；当x为序表时解析为xml串返回。
  * @author runqian
  *
  */
 public class Xml extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
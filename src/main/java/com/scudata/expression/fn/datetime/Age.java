@@ -18,7 +18,7 @@ import com.scudata.resources.EngineMessage;
 
 /**
  * age(dateExp) age(stringExp,formatExp)
- * ӲdateExp1ʱ䵽dateExp2dateExp2ȱʡΪnow()
+ * 计算从参数dateExp1定义的时间到dateExp2间隔的整年数，dateExp2缺省为now()
  * @author runqian
  *
  */
@@ -29,7 +29,7 @@ public class Age extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -40,7 +40,7 @@ public class Age extends Function {
 
 	public Object calculate(Context ctx) {
 		Date date;
-		Date now = null; // ĿڣȱʡΪǰ
+		Date now = null; // 目标日期，缺省为当前日期
 		if (param.getType() == IParam.Comma) {
 			if (param.getSubSize() != 2) {
 				MessageManager mm = EngineMessage.get();
@@ -81,7 +81,7 @@ public class Age extends Function {
 
 		int year1 = DateFactory.get().year(date);
 		int year2 = DateFactory.get().year(now);
-		if (isMonth) { //
+		if (isMonth) { //月
 			int month1 = DateFactory.get().month(date);
 			int month2 = DateFactory.get().month(now);
 			if (month2 >= month1) {
@@ -89,9 +89,9 @@ public class Age extends Function {
 			} else {
 				return ObjectCache.getInteger(year2 - year1 - 1);
 			}
-		} else if (isYear) { //
+		} else if (isYear) { //年
 			return ObjectCache.getInteger(year2 - year1);
-		} else { //
+		} else { //日
 			int month1 = DateFactory.get().month(date);
 			int month2 = DateFactory.get().month(now);
 			if (month2 > month1) {
@@ -12,7 +12,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * deq(datetimeExp1,datetimeExp2) dateExp1dateExp2ڲȽϣжǷͬ
+ * deq(datetimeExp1,datetimeExp2) 将dateExp1和dateExp2两个日期参数比较，判断是否相同
  * @author runqian
  *
  */
@@ -21,7 +21,7 @@ public class DateEqual extends Function {
 	private Expression exp2;
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
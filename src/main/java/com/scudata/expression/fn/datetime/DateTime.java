@@ -15,13 +15,13 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * datetime(datetimeExp) datetimeExpľȺ󷵻أȱʡȷ
+ * datetime(datetimeExp) 调整datetimeExp的精度后返回，缺省精确到日
  * @author runqian
  *
  */
 public class DateTime extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -223,7 +223,7 @@ public class DateTime extends Function {
 			calendar.set(year, month - 1, day, hour, minute, second);
 			return new java.sql.Timestamp(calendar.getTimeInMillis());
 		} else if (size == 5) {
-			// datetime(ym,d,h,m,s)	ym6λǽΪ
+			// datetime(ym,d,h,m,s)	ym是6位数是解释为年月
 			IParam sub1 = param.getSub(0);
 			IParam sub2 = param.getSub(1);
 			IParam sub3 = param.getSub(2);
@@ -2,6 +2,9 @@ package com.scudata.expression.fn.datetime;
 
 import java.util.Date;
 
+import com.scudata.array.ConstArray;
+import com.scudata.array.DateArray;
+import com.scudata.array.IArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
@@ -12,7 +15,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * elapse(dateExp, n) n/ n/ nµdateExp
+ * elapse(dateExp, n) 算出相差n天/ n月/ n年的新的日期数据dateExp。
  * @author runqian
  *
  */
@@ -23,7 +26,7 @@ public class Elapse extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -62,4 +65,98 @@ public class Elapse extends Function {
 
 		return Variant.elapse((Date)result1, ((Number)result2).intValue(), option);
 	}
+
+	// 计算一行，日期为空时取当前时间
+	private Date elapse(Object date, Object n, Date now) {
+		if (date == null) {
+			date = now;
+		} else if (date instanceof String) {
+			date = Variant.parseDate((String)date);
+		}
+		
+		if (!(date instanceof Date) || !(n instanceof Number)) {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException("elapse" + mm.getMessage("function.paramTypeError"));
+		}
+		
+		return Variant.elapse((Date)date, ((Number)n).intValue(), option);
+	}
+
+	/**
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx) {
+		IParam sub1 = param.getSub(0);
+		IParam sub2 = param.getSub(1);
+		if (sub2 == null) {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException("elapse" + mm.getMessage("function.invalidParam"));
+		}
+		
+		IArray array2 = sub2.getLeafExpression().calculateAll(ctx);
+		IArray array1;
+		if (sub1 == null) {
+			array1 = new ConstArray(null, array2.size());
+		} else {
+			array1 = sub1.getLeafExpression().calculateAll(ctx);
+		}
+		
+		return elapseAll(array1, array2, null);
+	}
+
+	/**
+	 * 计算signArray中取值为sign的行
+	 * @param ctx
+	 * @param signArray 行标识数组
+	 * @param sign 标识
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
+		IParam sub1 = param.getSub(0);
+		IParam sub2 = param.getSub(1);
+		if (sub2 == null) {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException("elapse" + mm.getMessage("function.invalidParam"));
+		}
+		
+		IArray array2 = sub2.getLeafExpression().calculateAll(ctx, signArray, sign);
+		IArray array1;
+		if (sub1 == null) {
+			array1 = new ConstArray(null, array2.size());
+		} else {
+			array1 = sub1.getLeafExpression().calculateAll(ctx, signArray, sign);
+		}
+		
+		boolean[] signDatas;
+		if (sign) {
+			signDatas = signArray.isTrue().getDatas();
+		} else {
+			signDatas = signArray.isFalse().getDatas();
+		}
+		
+		return elapseAll(array1, array2, signDatas);
+	}
+	
+	// 按行计算日期，signDatas不为空时只计算取值为true的行
+	private IArray elapseAll(IArray array1, IArray array2, boolean []signDatas) {
+		int size = array1.size();
+		Date now = new java.sql.Timestamp(System.currentTimeMillis());
+		if (array1 instanceof ConstArray && array2 instanceof ConstArray) {
+			return new ConstArray(elapse(array1.get(1), array2.get(1), now), size);
+		}
+		
+		DateArray result = new DateArray(size);
+		result.setTemporary(true);
+		for (int i = 1; i <= size; ++i) {
+			if (signDatas != null && !signDatas[i]) {
+				result.pushNull();
+			} else {
+				result.push(elapse(array1.get(i), array2.get(i), now));
+			}
+		}
+		
+		return result;
+	}
 }
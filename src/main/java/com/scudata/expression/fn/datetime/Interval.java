@@ -17,7 +17,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * interval (datetimeExp1,datetimeExp2) ʱdatetimeExp1  datetimeExp2ļ
+ * interval (datetimeExp1,datetimeExp2) 计算两个日期时间型数据datetimeExp1 和 datetimeExp2的间隔
  * @author runqian
  *
  */
@@ -26,7 +26,7 @@ public class Interval extends Function {
 	private Expression exp2;
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -78,8 +78,8 @@ public class Interval extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -168,10 +168,10 @@ public class Interval extends Function {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -7,7 +7,7 @@ import com.scudata.expression.Function;
 import com.scudata.expression.Node;
 
 /**
- * ϵͳ˿̵ʱ䣬ȷ
+ * 获得系统此刻的日期时间，精确到毫秒
  * @author runqian
  *
  */
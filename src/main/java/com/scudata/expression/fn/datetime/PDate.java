@@ -11,13 +11,13 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * pdate(dateExp) ָdateExp//ȵһһ
+ * pdate(dateExp) 获得指定日期dateExp所在星期/月/季度的最早的一天和最后的一天
  * @author runqian
  *
  */
 public class PDate extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
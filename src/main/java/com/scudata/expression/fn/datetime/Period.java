@@ -14,7 +14,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * periods(s,e,i) ȡse˵㣩ÿiʱֵɵС
+ * periods(s,e,i) 获取从s到e（包括端点）每间隔i的日期时间值构成的序列。
  * @author runqian
  *
  */
@@ -25,7 +25,7 @@ public class Period extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -83,28 +83,28 @@ public class Period extends Function {
 		}
 
 		if (option == null || (option.indexOf('o') == -1 && option.indexOf('t') == -1)) {
-			return periodA((Date) start, (Date) end, dist, option); // 
+			return periodA((Date) start, (Date) end, dist, option); // 调整
 		} else {
-			return periodO((Date) start, (Date) end, dist, option); // Ѯ
+			return periodO((Date) start, (Date) end, dist, option); // 不调整，旬调整
 		}
 	}
 
 	private Sequence periodO(Date start, Date end, int distance, String opt) {
 		int field;
-		if (opt == null) { // 
+		if (opt == null) { // 日
 			field = Calendar.DATE;
-		} else if (opt.indexOf('y') != -1) { // 
+		} else if (opt.indexOf('y') != -1) { // 年
 			field = Calendar.YEAR;
-		} else if (opt.indexOf('q') != -1) { // 
+		} else if (opt.indexOf('q') != -1) { // 季
 			field = Calendar.MONTH;
 			distance *= 3;
-		} else if (opt.indexOf('m') != -1) { // 
+		} else if (opt.indexOf('m') != -1) { // 月
 			field = Calendar.MONTH;
-		} else if (opt.indexOf('t') != -1) { // Ѯ
+		} else if (opt.indexOf('t') != -1) { // 旬
 			field = -1;
-		} else if (opt.indexOf('s') != -1) { // 
+		} else if (opt.indexOf('s') != -1) { // 秒
 			field = Calendar.SECOND;
-		} else { // 
+		} else { // 日
 			field = Calendar.DATE;
 		}
 
@@ -118,12 +118,12 @@ public class Period extends Function {
 				throw new RQException("period" + mm.getMessage("function.invalidParam"));
 			}
 
-			if (field == -1) { // Ѯ
+			if (field == -1) { // 旬
 				Date prev = start;
 				gc.setTime(start);
 				int day = gc.get(Calendar.DATE);
 
-				// ޸dayΪѮĵһ
+				// 修改day为旬的第一天
 				if (day < 11) {
 					day = 1;
 				} else if (day < 21) {
@@ -188,12 +188,12 @@ public class Period extends Function {
 				throw new RQException("period" + mm.getMessage("function.invalidParam"));
 			}
 
-			if (field == -1) { // Ѯ
+			if (field == -1) { // 旬
 				Date prev = start;
 				gc.setTime(start);
 				int day = gc.get(Calendar.DATE);
 
-				// ޸dayΪѮĵһ
+				// 修改day为旬的第一天
 				if (day < 11) {
 					day = 1;
 				} else if (day < 21) {
@@ -262,14 +262,14 @@ public class Period extends Function {
 		gc.setTime(start);
 
 		int field;
-		if (opt == null) { // 
+		if (opt == null) { // 日
 			field = Calendar.DATE;
 
 			gc.set(Calendar.HOUR_OF_DAY, 0);
 			gc.set(Calendar.MINUTE, 0);
 			gc.set(Calendar.SECOND, 0);
 			gc.set(Calendar.MILLISECOND, 0);
-		} else if (opt.indexOf('y') != -1) { // 
+		} else if (opt.indexOf('y') != -1) { // 年
 			field = Calendar.YEAR;
 
 			gc.set(Calendar.DATE, 1);
@@ -278,7 +278,7 @@ public class Period extends Function {
 			gc.set(Calendar.MINUTE, 0);
 			gc.set(Calendar.SECOND, 0);
 			gc.set(Calendar.MILLISECOND, 0);
-		} else if (opt.indexOf('q') != -1) { // 
+		} else if (opt.indexOf('q') != -1) { // 季
 			field = Calendar.MONTH;
 			distance *= 3;
 
@@ -299,7 +299,7 @@ public class Period extends Function {
 			gc.set(Calendar.MINUTE, 0);
 			gc.set(Calendar.SECOND, 0);
 			gc.set(Calendar.MILLISECOND, 0);
-		} else if (opt.indexOf('m') != -1) { // 
+		} else if (opt.indexOf('m') != -1) { // 月
 			field = Calendar.MONTH;
 
 			gc.set(Calendar.DATE, 1);
@@ -307,10 +307,10 @@ public class Period extends Function {
 			gc.set(Calendar.MINUTE, 0);
 			gc.set(Calendar.SECOND, 0);
 			gc.set(Calendar.MILLISECOND, 0);
-		} else if (opt.indexOf('s') != -1) { // 
+		} else if (opt.indexOf('s') != -1) { // 秒
 			field = Calendar.SECOND;
 			gc.set(Calendar.MILLISECOND, 0);
-		} else { // 
+		} else { // 日
 			field = Calendar.DATE;
 
 			gc.set(Calendar.HOUR_OF_DAY, 0);
@@ -15,13 +15,13 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * date(datetimeExp) datetimeExpȡڲֵ
+ * date(datetimeExp) 从datetimeExp中取出日期部分的数据
  * @author runqian
  *
  */
 public class ToDate extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -81,7 +81,7 @@ public class ToDate extends Function {
 						//throw new RQException("date" + e.getMessage());
 					}
 				} else if (result1 instanceof Number && result2 instanceof Number) {
-					// date(ym,d)	ym6λǽΪ
+					// date(ym,d)	ym是6位数是解释为年月
 					int ym = ((Number)result1).intValue();
 					if (ym < 9999) {
 						MessageManager mm = EngineMessage.get();
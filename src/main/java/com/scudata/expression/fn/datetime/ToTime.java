@@ -15,14 +15,14 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * time(datetimeExp) datetimeExpȡʱ䲿ֵݡȱʡȷ롣
- * Ϣеʱʽһ, ϢĬϲʾ
+ * time(datetimeExp) 从datetimeExp中取出时间部分的数据。缺省精确到毫秒。
+ * 需与配置信息中的时间格式一致, 配置信息默认不显示毫秒
  * @author runqian
  *
  */
 public class ToTime extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -13,8 +13,8 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * workday(t,k,h) tkյڣh()УhгԱĩǼգ
- * ĩǼգΪĩʱݼ㣬Ϊ
+ * workday(t,k,h) 计算和日期t相距k个工作日的日期，h是(非)假日序列，即h中成员若非周末则是假日，
+ * 是周末则非假日，若为周末时按调休计算，调为工作日
  * @author runqian
  *
  */
@@ -25,7 +25,7 @@ public class WorkDay extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
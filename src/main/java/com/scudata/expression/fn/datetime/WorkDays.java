@@ -15,8 +15,8 @@ import com.scudata.resources.EngineMessage;
 
 /**
  * workdays(b,e,h)
- * be֮ĹУbeh()УhгԱĩǼգ
- * ĩǼգΪĩʱݼ㣬Ϊ
+ * 计算日期b和日期e之间的工作日序列，包含b和e。h是(非)假日序列，即h中成员若非周末则是假日，
+ * 是周末则非假日，若为周末时按调休计算，调为工作日
  * @author runqian
  *
  */
@@ -27,7 +27,7 @@ public class WorkDays extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -16,14 +16,14 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ƽֵ
- * avg(n1,)
+ * 求平均值
+ * avg(n1,…)
  * @author RunQian
  *
  */
 public class Average extends Gather {
 	private Expression exp;
-	private String countFieldName; // ֶ
+	private String countFieldName; // 结果集计数字段名称
 	
 	public void setCountFieldName(String countFieldName) {
 		this.countFieldName = countFieldName;
@@ -122,7 +122,7 @@ public class Average extends Gather {
 		return Variant.avg(result, count);
 	}
 
-	// seqһ»ֵ
+	// 对序列seq算一下汇总值
 	public Object gather(Sequence seq) {
 		return seq.average();
 	}
@@ -132,12 +132,12 @@ public class Average extends Gather {
 	}
 	
 	/**
-	 * м¼ֵܵ
-	 * @param sumResult ͽ
-	 * @param countResult 
-	 * @param resultSeqs ÿ¼ӦĽ
-	 * @param ctx 
-	 * @return IArray 
+	 * 计算所有记录的值，汇总到结果数组上
+	 * @param sumResult 求和结果数组
+	 * @param countResult 计数结果数组
+	 * @param resultSeqs 每条记录对应的结果数组的序号
+	 * @param ctx 计算上下文
+	 * @return IArray 结果数组
 	 */
 	public IArray gather(IArray sumResult, LongArray countResult, int []resultSeqs, Context ctx) {
 		IArray array = exp.calculateAll(ctx);
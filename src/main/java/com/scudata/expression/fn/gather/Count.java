@@ -15,8 +15,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ȡֵΪĲ
- * count(x1,)
+ * 求取值为真的参数个数
+ * count(x1,…)
  * @author RunQian
  *
  */
@@ -95,7 +95,7 @@ public class Count extends Gather {
 		return count;
 	}
 	
-	// seqһ»ֵ
+	// 对序列seq算一下汇总值
 	public Object gather(Sequence seq) {
 		return seq.count();
 	}
@@ -105,11 +105,11 @@ public class Count extends Gather {
 	}
 
 	/**
-	 * м¼ֵܵ
-	 * @param result 
-	 * @param resultSeqs ÿ¼ӦĽ
-	 * @param ctx 
-	 * @return IArray 
+	 * 计算所有记录的值，汇总到结果数组上
+	 * @param result 结果数组
+	 * @param resultSeqs 每条记录对应的结果数组的序号
+	 * @param ctx 计算上下文
+	 * @return IArray 结果数组
 	 */
 	public IArray gather(IArray result, int []resultSeqs, Context ctx) {
 		IArray array = exp.calculateAll(ctx);
@@ -136,11 +136,11 @@ public class Count extends Gather {
 	}
 	
 	/**
-	 * ̷̳Ķλ
-	 * @param result һ̵߳ķ
-	 * @param result2 һ̵߳ķ
-	 * @param seqs һ̵߳ķһ̷߳ĶӦϵ
-	 * @param ctx 
+	 * 多程程分组的二次汇总运算
+	 * @param result 一个线程的分组结果
+	 * @param result2 另一个线程的分组结果
+	 * @param seqs 另一个线程的分组跟第一个线程分组的对应关系
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public void gather2(IArray result, IArray result2, int []seqs, Context ctx) {
@@ -22,17 +22,17 @@ import com.scudata.util.Variant;
 
 
 /**
- * ȡظԪظȥȡֵΪfalseԪ
- * icount(x1,)
+ * 取不重复的元素个数，去除取值为false的元素
+ * icount(x1,…)
  * @author RunQian
  *
  */
 public class ICount extends Gather {
-	private Expression exp; // ʽ
-	private boolean isSorted = false; // Ƿ񰴱ʽ
-	private boolean optB = false; // ʹλģʽ
+	private Expression exp; // 表达式
+	private boolean isSorted = false; // 数据是否按表达式有序
+	private boolean optB = false; // 使用位模式
 	
-	// icountмϢ
+	// 有序icount的中间结果信息
 	public static class ICountInfo implements Serializable {
 		private static final long serialVersionUID = 1L;
 		
@@ -69,7 +69,7 @@ public class ICount extends Gather {
 				}
 			} else if (value != null) {
 				if (endValue == null) {
-					// ǰĶǿ
+					// 前面的都是空
 					startValue = value;
 					endValue = value;
 					count = 1;
@@ -81,16 +81,16 @@ public class ICount extends Gather {
 		}
 	}
 
-	//ûʹãȷ
+	//没有使用，先放在这里
 	public static class ICountHashSet implements Serializable {
 		private static final long serialVersionUID = 1L;
 		
 		private static final int INIT_SIZE = 64;
-		private IArray elementArray; // ϣŵԪصλãҪλõԴȡԪ
-		private HashUtil hashUtil; // ڼϣֵ
-		private int count = 0;// ǰԪظ
-		private int []entries; // ϣŹϣֵӦһ¼λ
-		private IntArray linkArray; // ϣֵͬļ¼
+		private IArray elementArray; // 哈希表存放的是元素的位置，需要根据位置到源表取元素
+		private HashUtil hashUtil; // 用于计算哈希值
+		private int count = 0;// 当前元素个数
+		private int []entries; // 哈希表，存放着哈希值对应的最后一条记录的位置
+		private IntArray linkArray; // 哈希值相同的记录链表
 		
 		public ICountHashSet(IArray src) {
 			hashUtil = new HashUtil(INIT_SIZE);
@@ -354,10 +354,10 @@ public class ICount extends Gather {
 	}
 
 	/**
-	 * һ¼ݣӵʱм
+	 * 把一条记录计算出的数据，添加到临时中间数据
 	 */
 	public Object gather(Context ctx) {
-		// ݰicountֶ
+		// 数据按icount字段有序
 		if (isSorted) {
 			Object val = exp.calculate(ctx);
 			if (val instanceof ICountInfo){
@@ -389,10 +389,10 @@ public class ICount extends Gather {
 	}
 	
 	/**
-	 * ϵʱм
+	 * 把其它数据整合到临时中间数据
 	 * 		
-	 * @param	oldValue	ϵ(nullΪϣ)
-	 * @param	ctx			ı
+	 * @param	oldValue	老的数据(若不是null，则必为哈希)
+	 * @param	ctx			上下文变量
 	 */
 	public Object gather(Object oldValue, Context ctx) {
 		Object val = exp.calculate(ctx);
@@ -400,7 +400,7 @@ public class ICount extends Gather {
 			return oldValue;
 		}
 		
-		// ݰicountֶ
+		// 数据按icount字段有序
 		if (isSorted) {
 			((ICountInfo)oldValue).put(val);
 			return oldValue;
@@ -442,9 +442,9 @@ public class ICount extends Gather {
 	}
 	
 	/**
-	 * ȡλʱþۺֶζӦıʽ
-	 * @param q	ǰֶε
-	 * @return	ܱʽ
+	 * 取二次汇总时该聚合字段对应的表达式
+	 * @param q	当前汇总字段的序号
+	 * @return	汇总表达式
 	 */
 	public Expression getRegatherExpression(int q) {
 		if (isSorted) {
@@ -457,14 +457,14 @@ public class ICount extends Gather {
 	}
 	
 	/**
-	 * ǷҪмʱݡ
+	 * 是否需要返回中间临时数据。
 	 */
 	public boolean needFinish1() {
 		return true;
 	}
 	
 	/**
-	 * ǷҪмͳս
+	 * 是否需要根据中间结果，统计生成最终结果
 	 */
 	public boolean needFinish() {
 		return true;
@@ -491,10 +491,10 @@ public class ICount extends Gather {
 	}
 
 	/**
-	 * ڴемתɴС
+	 * 把内存中的中间结果，转换成存盘序列。
 	 * 		
-	 * @param	val	ת
-	 * @return	תĽ
+	 * @param	val	被转换的数据
+	 * @return	返回转换后的结果
 	 */
 	public Object finish1(Object val) {
 		if (val instanceof HashSet) {
@@ -513,8 +513,8 @@ public class ICount extends Gather {
 	}
 	
 	/**
-	 * ԷõĻнմ
-	 * @param array еֵ
+	 * 对分组结束得到的汇总列进行最终处理
+	 * @param array 计算列的值
 	 * @return IArray
 	 */
 	public IArray finish(IArray array) {
@@ -547,7 +547,7 @@ public class ICount extends Gather {
 	}
 	
 	/**
-	 * ͳʱмݣս
+	 * 统计临时中间数据，生成最终结果。
 	 */
 	public Object finish(Object val) {
 		if (val instanceof ICountInfo) {
@@ -570,11 +570,11 @@ public class ICount extends Gather {
 	}
 
 	/**
-	 * м¼ֵܵ
-	 * @param result 
-	 * @param resultSeqs ÿ¼ӦĽ
-	 * @param ctx 
-	 * @return IArray 
+	 * 计算所有记录的值，汇总到结果数组上
+	 * @param result 结果数组
+	 * @param resultSeqs 每条记录对应的结果数组的序号
+	 * @param ctx 计算上下文
+	 * @return IArray 结果数组
 	 */
 	public IArray gather(IArray result, int []resultSeqs, Context ctx) {
 		if (optB) {
@@ -807,11 +807,11 @@ public class ICount extends Gather {
 	}
 	
 	/**
-	 * ̷̳Ķλ
-	 * @param result һ̵߳ķ
-	 * @param result2 һ̵߳ķ
-	 * @param seqs һ̵߳ķһ̷߳ĶӦϵ
-	 * @param ctx 
+	 * 多程程分组的二次汇总运算
+	 * @param result 一个线程的分组结果
+	 * @param result2 另一个线程的分组结果
+	 * @param seqs 另一个线程的分组跟第一个线程分组的对应关系
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public void gather2(IArray result, IArray result2, int []seqs, Context ctx) {
@@ -16,8 +16,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * 㺯
- * iterate(x,a) iterate(x,a;Gi,)
+ * 迭代运算函数
+ * iterate(x,a) iterate(x,a;Gi,…)
  * @author WangXiaoJun
  *
  */
@@ -35,6 +35,13 @@ public class Iterate extends Gather {
 		if (param != null) param.optimize(ctx);
 		return this;
 	}
+
+	protected void resetState() {
+		valParam = null;
+		prevVal = null;
+		prevGroupVals = null;
+		super.resetState();
+	}
 	
 	public void prepare(Context ctx) {
 		if (param == null) {
@@ -215,11 +222,11 @@ public class Iterate extends Gather {
 	}
 	
 	/**
-	 * м¼ֵܵ
-	 * @param result 
-	 * @param resultSeqs ÿ¼ӦĽ
-	 * @param ctx 
-	 * @return IArray 
+	 * 计算所有记录的值，汇总到结果数组上
+	 * @param result 结果数组
+	 * @param resultSeqs 每条记录对应的结果数组的序号
+	 * @param ctx 计算上下文
+	 * @return IArray 结果数组
 	 */
 	public IArray gather(IArray result, int []resultSeqs, Context ctx) {
 		if (result == null) {
@@ -13,8 +13,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ֵ
- * max(n1,)
+ * 求最大值
+ * max(n1,…)
  * @author RunQian
  *
  */
@@ -85,17 +85,21 @@ public class Max extends Gather {
 		}
 	}
 
-	// seqһ»ֵ
+	// 对序列seq算一下汇总值
 	public Object gather(Sequence seq) {
 		return seq.max();
 	}
 	
+	public Expression getExp() {
+		return exp;
+	}
+	
 	/**
-	 * м¼ֵܵ
-	 * @param result 
-	 * @param resultSeqs ÿ¼ӦĽ
-	 * @param ctx 
-	 * @return IArray 
+	 * 计算所有记录的值，汇总到结果数组上
+	 * @param result 结果数组
+	 * @param resultSeqs 每条记录对应的结果数组的序号
+	 * @param ctx 计算上下文
+	 * @return IArray 结果数组
 	 */
 	public IArray gather(IArray result, int []resultSeqs, Context ctx) {
 		IArray array = exp.calculateAll(ctx);
@@ -115,11 +119,11 @@ public class Max extends Gather {
 	}
 	
 	/**
-	 * ̷̳Ķλ
-	 * @param result һ̵߳ķ
-	 * @param result2 һ̵߳ķ
-	 * @param seqs һ̵߳ķһ̷߳ĶӦϵ
-	 * @param ctx 
+	 * 多程程分组的二次汇总运算
+	 * @param result 一个线程的分组结果
+	 * @param result2 另一个线程的分组结果
+	 * @param seqs 另一个线程的分组跟第一个线程分组的对应关系
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public void gather2(IArray result, IArray result2, int []seqs, Context ctx) {
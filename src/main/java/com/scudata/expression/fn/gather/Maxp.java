@@ -16,14 +16,14 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ȡʹʽȡֵ¼
+ * 取使表达式取值最大的那条记录
  * maxp(x)
  * @author RunQian
  *
  */
 public class Maxp extends Gather {
 	private Expression exp;
-	private int fieldIndex = Integer.MIN_VALUE; // ʽӦֶ
+	private int fieldIndex = Integer.MIN_VALUE; // 表达式所对应的字段
 	private boolean isOne;
 	private boolean needFinish = true;
 
@@ -115,11 +115,11 @@ public class Maxp extends Gather {
 	}
 	
 	/**
-	 * м¼ֵܵ
-	 * @param result 
-	 * @param resultSeqs ÿ¼ӦĽ
-	 * @param ctx 
-	 * @return IArray 
+	 * 计算所有记录的值，汇总到结果数组上
+	 * @param result 结果数组
+	 * @param resultSeqs 每条记录对应的结果数组的序号
+	 * @param ctx 计算上下文
+	 * @return IArray 结果数组
 	 */
 	public IArray gather(IArray result, int []resultSeqs, Context ctx) {
 		ComputeStack computeStack = ctx.getComputeStack();
@@ -221,11 +221,11 @@ public class Maxp extends Gather {
 	}
 	
 	/**
-	 * ̷̳Ķλ
-	 * @param result һ̵߳ķ
-	 * @param result2 һ̵߳ķ
-	 * @param seqs һ̵߳ķһ̷߳ĶӦϵ
-	 * @param ctx 
+	 * 多程程分组的二次汇总运算
+	 * @param result 一个线程的分组结果
+	 * @param result2 另一个线程的分组结果
+	 * @param seqs 另一个线程的分组跟第一个线程分组的对应关系
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public void gather2(IArray result, IArray result2, int []seqs, Context ctx) {
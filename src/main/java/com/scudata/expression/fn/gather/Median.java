@@ -10,18 +10,18 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ۺϺMedian
+ * 聚合函数Median类
  * 
- * @author ־
+ * @author 于志华
  *
  */
 public class Median extends Gather  {
-	int	parK = 0;	// ѡĸֶΡΪ0ʽֵΪ
-	int	parN = 0;	// ֶٶΣΪ0ʾֵΪա
-	private Expression exp;	// ʽ
+	int	parK = 0;	// 选择哪个分段。若为0表达式该值为空
+	int	parN = 0;	// 分多少段，若为0表示该值为空。
+	private Expression exp;	// 计算表达式
 	
 	/**
-	 * median(k:n, exp)ֱknexp
+	 * 根据median(k:n, exp)分别解析k、n、exp
 	 */
 	public void prepare(Context ctx) {
 		if (param == null || param.getSubSize() != 2) {
@@ -33,7 +33,7 @@ public class Median extends Gather  {
 		IParam sub1 = param.getSub(1);
 		exp = sub1.getLeafExpression();
 		
-		// median knΪգʱȡֵ
+		// median k、n参数允许均为空，此时取中值。
 		if (null == sub0) {
 			parK	= 1;
 			parN	= 2;
@@ -79,12 +79,12 @@ public class Median extends Gather  {
 	}
 
 	/**
-	 * һ¼ӵmeidanмݻʱϵmedian
-	 * 		ݰݺͷݡ
-	 * 		Ҫвֺ󣬺ϲֺݻУһ֣
-	 * 		ֱӺϲ
-	 * @param	oldValue	ǰм
-	 * @param	ctx	ıṩмݵ
+	 * 把一条记录添加到meidan中间数据或把其它临时数据整合到median。
+	 * 		被整合数据包括序列数据和非序列数据。
+	 * 		序列数据需要把序列拆分后，合并。（若拆分后的数据还包含序列，不做进一步拆分）
+	 * 		非序列数据直接合并。
+	 * @param	oldValue	以前的中间数据
+	 * @param	ctx	上下文变量，提供计算中间数据的上下文
 	 */
 	public Object gather(Object oldValue, Context ctx) {
 		Object val = exp.calculate(ctx);
@@ -112,7 +112,7 @@ public class Median extends Gather  {
 	}
 
 	/**
-	 * ѼݺϲΪڴм
+	 * 把计算后的数据合并为内存的中间数据
 	 * 		
 	 */
 	public Object gather(Context ctx) {
@@ -128,8 +128,8 @@ public class Median extends Gather  {
 	}
 
 	/**
-	 * medianڵĲԭʽַ
-	 * @param	q	ԭʱӦС
+	 * 根据median内的参数，还原表达式字符串。
+	 * @param	q	还原时，对应的排序列。
 	 */
 	public Expression getRegatherExpression(int q) {
 		String str = "median("+parK+":"+parN+",#"+ + q + ")";
@@ -143,14 +143,14 @@ public class Median extends Gather  {
 	}
 
 	/**
-	 * ǷҪͳƲ
+	 * 是否需要最后的统计操作
 	 */
 	public boolean needFinish() {
 		return true;
 	}
 	
 	/**
-	 * ͳʱмݣս
+	 * 统计临时中间数据，生成最终结果。
 	 */
 	public Object finish(Object val) {
 		if (val == null || !(val instanceof Sequence)) {
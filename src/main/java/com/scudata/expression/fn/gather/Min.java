@@ -13,8 +13,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * Сֵ
- * min(n1,)
+ * 求最小值
+ * min(n1,…)
  * @author RunQian
  *
  */
@@ -34,7 +34,7 @@ public class Min extends Gather {
 		return exp.calculate(ctx);
 	}
 
-	// null
+	// 不计人null
 	public Object gather(Object oldValue, Context ctx) {
 		Object val = exp.calculate(ctx);
 		if (val != null && (oldValue == null || Variant.compare(val, oldValue, true) < 0)) {
@@ -86,17 +86,21 @@ public class Min extends Gather {
 		}
 	}
 
-	// seqһ»ֵ
+	// 对序列seq算一下汇总值
 	public Object gather(Sequence seq) {
 		return seq.min();
 	}
 	
+	public Expression getExp() {
+		return exp;
+	}
+	
 	/**
-	 * м¼ֵܵ
-	 * @param result 
-	 * @param resultSeqs ÿ¼ӦĽ
-	 * @param ctx 
-	 * @return IArray 
+	 * 计算所有记录的值，汇总到结果数组上
+	 * @param result 结果数组
+	 * @param resultSeqs 每条记录对应的结果数组的序号
+	 * @param ctx 计算上下文
+	 * @return IArray 结果数组
 	 */
 	public IArray gather(IArray result, int []resultSeqs, Context ctx) {
 		IArray array = exp.calculateAll(ctx);
@@ -116,11 +120,11 @@ public class Min extends Gather {
 	}
 	
 	/**
-	 * ̷̳Ķλ
-	 * @param result һ̵߳ķ
-	 * @param result2 һ̵߳ķ
-	 * @param seqs һ̵߳ķһ̷߳ĶӦϵ
-	 * @param ctx 
+	 * 多程程分组的二次汇总运算
+	 * @param result 一个线程的分组结果
+	 * @param result2 另一个线程的分组结果
+	 * @param seqs 另一个线程的分组跟第一个线程分组的对应关系
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public void gather2(IArray result, IArray result2, int []seqs, Context ctx) {
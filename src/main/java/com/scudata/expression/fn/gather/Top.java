@@ -27,23 +27,23 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.MinHeap;
 
 /**
- * ȡǰԪ
- * top(n,x) top(n;x,) top(n,y,x)
+ * 取排名前几的元素
+ * top(n,x) top(n;x,…) top(n,y,x)
  * @author RunQian
  *
  */
 public class Top extends Gather {
 	private int count = 1;
-	private Expression exp; // Ƚϱʽ
-	private Expression getExp; // ȡֵʽ
-	private boolean isCurrent; // Ƿȡǰ¼
+	private Expression exp; // 比较表达式
+	private Expression getExp; // 结果集取值表达式
+	private boolean isCurrent; // 是否取当前记录
 	
-	private boolean isPositive = true; // nǷ
-	private boolean isOne = false; // Ƿ@1ѡ
-	private boolean isSame = false; // ǷȡС
+	private boolean isPositive = true; // n是否是正数
+	private boolean isOne = false; // 是否有@1选项
+	private boolean isSame = false; // 是否取所有最大或最小的
 	
 	private Comparator<Object> comparator;
-	private int expIndex = -1; // Ƚϱʽֶ
+	private int expIndex = -1; // 比较表达式的字段索引
 
 	public void prepare(Context ctx) {
 		if (option != null && option.indexOf('1') != -1) {
@@ -374,7 +374,7 @@ public class Top extends Gather {
 		}
 	}
 	
-	// top(1,x)ȡС
+	// 用于top(1,x)取所有最大或最小的
 	private static void addToSequence(Sequence seq, Object obj, Comparator<Object> comparator) {
 		if (obj == null) {
 			return;
@@ -670,7 +670,7 @@ public class Top extends Gather {
 		return oldValue;
 	}
 	
-	// ȡСֵ
+	// 取所有最小值
 	private IArray minAll(IArray result, int []resultSeqs, Context ctx) {
 		Expression exp = this.exp;
 		if (result == null) {
@@ -711,7 +711,7 @@ public class Top extends Gather {
 		return result;
 	}
 		
-	// ȡʹָʽСļ¼
+	// 取所有使指定表达式最大或最小的记录
 	private IArray topAll(IArray result, int []resultSeqs, Context ctx) {
 		if (result == null) {
 			result = new ObjectArray(Env.INITGROUPSIZE);
@@ -735,7 +735,7 @@ public class Top extends Gather {
 		return result;
 	}
 	
-	// ȡֵ
+	// 取最大值
 	/*private IArray max(IArray result, int []resultSeqs, Context ctx) {
 		Expression exp = this.exp;
 		if (getExp == null) {
@@ -806,7 +806,7 @@ public class Top extends Gather {
 		return result;
 	}
 	
-	// ȡСֵ
+	// 取最小值
 	private IArray min(IArray result, int []resultSeqs, Context ctx) {
 		Expression exp = this.exp;
 		if (getExp == null) {
@@ -877,7 +877,7 @@ public class Top extends Gather {
 		return result;
 	}*/
 	
-	// ȡ
+	// 取所有最大的
 	private IArray maxAll(IArray result, int []resultSeqs, Context ctx) {
 		Expression exp = this.exp;
 		if (result == null) {
@@ -919,11 +919,11 @@ public class Top extends Gather {
 	}
 	
 	/**
-	 * м¼ֵܵ
-	 * @param result 
-	 * @param resultSeqs ÿ¼ӦĽ
-	 * @param ctx 
-	 * @return IArray 
+	 * 计算所有记录的值，汇总到结果数组上
+	 * @param result 结果数组
+	 * @param resultSeqs 每条记录对应的结果数组的序号
+	 * @param ctx 计算上下文
+	 * @return IArray 结果数组
 	 */
 	public IArray gather(IArray result, int []resultSeqs, Context ctx) {
 		if (isSame) {
@@ -1090,7 +1090,7 @@ public class Top extends Gather {
 		}
 	}
 	
-	// ȡʹָʽСļ¼
+	// 取所有使指定表达式最大或最小的记录
 	private void topAll(IArray result, IArray result2, int []seqs, Context ctx) {
 		Expression exp = this.exp;
 		Comparator<Object> comparator = this.comparator;
@@ -1148,11 +1148,11 @@ public class Top extends Gather {
 	}
 	
 	/**
-	 * ̷̳Ķλ
-	 * @param result һ̵߳ķ
-	 * @param result2 һ̵߳ķ
-	 * @param seqs һ̵߳ķһ̷߳ĶӦϵ
-	 * @param ctx 
+	 * 多程程分组的二次汇总运算
+	 * @param result 一个线程的分组结果
+	 * @param result2 另一个线程的分组结果
+	 * @param seqs 另一个线程的分组跟第一个线程分组的对应关系
+	 * @param ctx 计算上下文
 	 * @return
 	 */
 	public void gather2(IArray result, IArray result2, int []seqs, Context ctx) {
@@ -10,7 +10,7 @@ import com.scudata.util.Variant;
 
 public class Abs extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -28,12 +28,24 @@ public class Abs extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
 		IArray array = param.getLeafExpression().calculateAll(ctx);
 		return array.abs();
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * 计算signArray中取值为sign的行
+	 * @param ctx
+	 * @param signArray 行标识数组
+	 * @param sign 标识
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
+		IArray array = param.getLeafExpression().calculateAll(ctx, signArray, sign);
+		return array.abs();
+	}
+}
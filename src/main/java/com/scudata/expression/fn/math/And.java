@@ -15,13 +15,13 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * гԱİλ,ֵԱ
+ * 求序列成员或多个参数的按位与,非数值成员被忽略
  * @author yanjing
  *
  */
 public class And extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -30,7 +30,7 @@ public class And extends Function {
 		}
 	}
 
-	// гԱλ
+	// 计算序列成员按位与
 	private static Object and(Sequence seq) {
 		int size = seq.length();
 		if (size == 0) {
@@ -40,11 +40,11 @@ public class And extends Function {
 		}
 		
 		Object obj = seq.getMem(1);
-		boolean returnInt = true; // ǷȫInteger򷵻Integer򷵻Long
+		boolean returnInt = true; // 是否全部都是Integer，如果是则返回Integer，否则返回Long
 		long longValue = 0;
-		BigInteger bi = null; // BigInteger򷵻BigInteger
+		BigInteger bi = null; // 如果含有BigInteger则返回BigInteger
 		
-		// гԱBigDecimalBigIntegerʹBigInteger
+		// 如果有成员类型是BigDecimal或BigInteger则使用BigInteger运算
 		if (obj instanceof BigDecimal) {
 			bi = ((BigDecimal)obj).toBigInteger();
 		} else if (obj instanceof BigInteger) {
@@ -107,9 +107,9 @@ public class And extends Function {
 	
 	public static Object and(Object v1, Object v2) {
 		long longValue = 0;
-		BigInteger bi = null; // BigInteger򷵻BigInteger
+		BigInteger bi = null; // 如果含有BigInteger则返回BigInteger
 		
-		// гԱBigDecimalBigIntegerʹBigInteger
+		// 如果有成员类型是BigDecimal或BigInteger则使用BigInteger运算
 		if (v1 instanceof BigDecimal) {
 			bi = ((BigDecimal)v1).toBigInteger();
 		} else if (v1 instanceof BigInteger) {
@@ -172,11 +172,11 @@ public class And extends Function {
 			}
 			
 			Object obj = sub.getLeafExpression().calculate(ctx);
-			boolean returnInt = true; // ǷȫInteger򷵻Integer򷵻Long
+			boolean returnInt = true; // 是否全部都是Integer，如果是则返回Integer，否则返回Long
 			long longValue = 0;
-			BigInteger bi = null; // BigInteger򷵻BigInteger
+			BigInteger bi = null; // 如果含有BigInteger则返回BigInteger
 			
-			// гԱBigDecimalBigIntegerʹBigInteger
+			// 如果有成员类型是BigDecimal或BigInteger则使用BigInteger运算
 			if (obj instanceof BigDecimal) {
 				bi = ((BigDecimal)obj).toBigInteger();
 			} else if (obj instanceof BigInteger) {
@@ -245,8 +245,8 @@ public class And extends Function {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -267,10 +267,10 @@ public class And extends Function {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -278,8 +278,8 @@ public class And extends Function {
 	}
 	
 	/**
-	 * ʽȡֵΧ
-	 * @param ctx 
+	 * 计算表达式的取值范围
+	 * @param ctx 计算上行文
 	 * @return
 	 */
 	public IArray calculateRange(Context ctx) {
@@ -291,7 +291,7 @@ public class And extends Function {
 				throw new RQException("and" + mm.getMessage("function.invalidParam"));
 			}
 			
-			// ֵСֵʱ򷵻طΧֵ򷵻ؿ
+			// 最大值和最小值相等时则返回范围值，否则返回空
 			Object value0;
 			IArray array0 = sub0.getLeafExpression().calculateRange(ctx);
 			if (array0 == null) {
@@ -3,17 +3,16 @@ package com.scudata.expression.fn.math;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
-import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ĳһֵķ˫ֵasinh(z)=ln(z+sqrt(z*z+1))
+ * 返回某一数字的反双曲正弦值asinh(z)=ln(z+sqrt(z*z+1))
  * @author yanjing
  *
  */
-public class Arcsinh extends Function {
+public class Arcsinh extends DoubleFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -28,8 +27,7 @@ public class Arcsinh extends Function {
 	public Object calculate(Context ctx) {
 		Object obj = param.getLeafExpression().calculate(ctx);
 		if (obj instanceof Number) {
-			double z = ((Number)obj).doubleValue();
-			return new Double(Math.log(z+Math.sqrt(z*z+1)));
+			return new Double(calculate(((Number)obj).doubleValue()));
 		} else if (obj == null) {
 			return null;
 		} else {
@@ -37,4 +35,8 @@ public class Arcsinh extends Function {
 			throw new RQException("asinh" + mm.getMessage("function.paramTypeError"));
 		}
 	}
+
+	protected double calculate(double z) {
+		return Math.log(z+Math.sqrt(z*z+1));
+	}
 }
@@ -3,17 +3,16 @@ package com.scudata.expression.fn.math;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
-import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ĳһֵķ˫ֵatanh(z)=(1/2)*ln((1+z)/(1-z))
+ * 返回某一数字的反双曲正切值atanh(z)=(1/2)*ln((1+z)/(1-z))
  * @author yanjing
  *
  */
-public class Arctanh extends Function {
+public class Arctanh extends DoubleFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -28,8 +27,7 @@ public class Arctanh extends Function {
 	public Object calculate(Context ctx) {
 		Object obj = param.getLeafExpression().calculate(ctx);
 		if (obj instanceof Number) {
-			double z = ((Number)obj).doubleValue();
-			return new Double((1.0/2.0)*Math.log((1+z)/(1-z)));
+			return new Double(calculate(((Number)obj).doubleValue()));
 		} else if (obj == null) {
 			return null;
 		} else {
@@ -37,4 +35,8 @@ public class Arctanh extends Function {
 			throw new RQException("atanh" + mm.getMessage("function.paramTypeError"));
 		}
 	}
+
+	protected double calculate(double z) {
+		return (1.0/2.0)*Math.log((1+z)/(1-z));
+	}
 }
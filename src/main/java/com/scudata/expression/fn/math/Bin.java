@@ -9,13 +9,13 @@ import com.scudata.resources.EngineMessage;
 
 
 /**
- * Ѳɶ
+ * 把参数变成二进制序列
  * @author yanjing
  *
  */
 public class Bin extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -14,7 +14,7 @@ import com.scudata.util.Variant;
 
 
 /**
- * bits(xi,) Ѹxi,...λ˳֣Ĭϸλǰ
+ * bits(xi,…) 把给定的xi,...按数字位顺序组成数字，默认高位在前
  * @author yanjing
  *
  */
@@ -22,7 +22,7 @@ public class Bits extends Function {
 	private final static char[] digits = { '0', '1', '2', '3', '4', 
 			'5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
 	
-	// Ѵתַ֣Ϊ1ʾܳ
+	// 把串转成数字，字符串长度为1，且所表示的数不能超过基数
 	private static int toNum(String s, int radix) {
 		if (s.length() != 1) {
 			MessageManager mm = EngineMessage.get();
@@ -47,7 +47,7 @@ public class Bits extends Function {
 		return n;
 	}
 	
-	// תַ
+	// 翻转字符串
 	private static String reverse(String str) {
 		char []chars = str.toCharArray();
 		for (int i = 0, j = chars.length - 1; i < j; ++i, --j) {
@@ -59,7 +59,7 @@ public class Bits extends Function {
 		return new String(chars);
 	}
 	
-	// תɸƶӦĴbigEndingλں
+	// 把数转成给定进制对应的串，bigEnding表名高位在后
 	private static String toString(Number num, int radix, boolean bigEnding) {
 		if (num instanceof BigDecimal) {
 			BigDecimal decimal = (BigDecimal)num;
@@ -366,7 +366,7 @@ public class Bits extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -376,7 +376,7 @@ public class Bits extends Function {
 	}
 	
 	public Object calculate(Context ctx) {
-		int radix = 2; // Ĭ2
+		int radix = 2; // 默认2进制
 		boolean isBool = false, returnString = false, returnDecimal = false, bigEnding = false;
 		if (option != null) {
 			if (option.indexOf('h') != -1) {
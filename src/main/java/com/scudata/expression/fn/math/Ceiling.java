@@ -3,6 +3,11 @@ package com.scudata.expression.fn.math;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
+import com.scudata.array.ConstArray;
+import com.scudata.array.DoubleArray;
+import com.scudata.array.IArray;
+import com.scudata.array.NumberArray;
+import com.scudata.array.ObjectArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
@@ -13,7 +18,7 @@ import com.scudata.util.Variant;
 
 public class Ceiling extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -25,17 +30,7 @@ public class Ceiling extends Function {
 	public Object calculate(Context ctx) {
 		if (param.isLeaf()) {
 			Object result1 = param.getLeafExpression().calculate(ctx);
-			if (result1 == null) {
-				return null;
-			} else if (result1 instanceof BigDecimal) {
-				BigDecimal decimal = (BigDecimal)result1;
-				return decimal.setScale(0, RoundingMode.CEILING);
-			} else if (result1 instanceof Number) {
-				return new Double(Math.ceil(Variant.doubleValue(result1)));
-			} else {
-				MessageManager mm = EngineMessage.get();
-				throw new RQException("ceil" + mm.getMessage("function.paramTypeError"));
-			}
+			return ceil(result1);
 		} else {
 			if (param.getSubSize() != 2) {
 				MessageManager mm = EngineMessage.get();
@@ -80,4 +75,92 @@ public class Ceiling extends Function {
 			}
 		}
 	}
+	
+	private static Object ceil(Object result1) {
+		if (result1 == null) {
+			return null;
+		} else if (result1 instanceof BigDecimal) {
+			BigDecimal decimal = (BigDecimal)result1;
+			return decimal.setScale(0, RoundingMode.CEILING);
+		} else if (result1 instanceof Number) {
+			return new Double(Math.ceil(Variant.doubleValue(result1)));
+		} else {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException("ceil" + mm.getMessage("function.paramTypeError"));
+		}
+	}
+
+	/**
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx) {
+		if (!param.isLeaf()) {
+			return super.calculateAll(ctx);
+		}
+		
+		IArray array = param.getLeafExpression().calculateAll(ctx);
+		return ceil(array, null);
+	}
+	
+	/**
+	 * 计算signArray中取值为sign的行
+	 * @param ctx
+	 * @param signArray 行标识数组
+	 * @param sign 标识
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
+		if (!param.isLeaf()) {
+			return super.calculateAll(ctx, signArray, sign);
+		}
+		
+		IArray array = param.getLeafExpression().calculateAll(ctx, signArray, sign);
+		boolean[] signDatas;
+		if (sign) {
+			signDatas = signArray.isTrue().getDatas();
+		} else {
+			signDatas = signArray.isFalse().getDatas();
+		}
+		
+		return ceil(array, signDatas);
+	}
+	
+	// 对数组的每个成员做向上取整，signDatas不为空时只计算取值为true的行
+	private static IArray ceil(IArray array, boolean []signDatas) {
+		int size = array.size();
+		if (array instanceof ConstArray) {
+			return new ConstArray(ceil(array.get(1)), size);
+		}
+		
+		if (array instanceof NumberArray) {
+			NumberArray numberArray = (NumberArray)array;
+			DoubleArray result = new DoubleArray(size);
+			result.setTemporary(true);
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.pushDouble(0);
+				} else if (numberArray.isNull(i)) {
+					result.pushNull();
+				} else {
+					result.pushDouble(Math.ceil(numberArray.getDouble(i)));
+				}
+			}
+			
+			return result;
+		} else {
+			ObjectArray result = new ObjectArray(size);
+			result.setTemporary(true);
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.push(null);
+				} else {
+					result.push(ceil(array.get(i)));
+				}
+			}
+			
+			return result;
+		}
+	}
 }
@@ -3,12 +3,11 @@ package com.scudata.expression.fn.math;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
-import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
-public class Cos extends Function {
+public class Cos extends DoubleFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -23,7 +22,7 @@ public class Cos extends Function {
 	public Object calculate(Context ctx) {
 		Object obj = param.getLeafExpression().calculate(ctx);
 		if (obj instanceof Number) {
-			return new Double(Math.cos(((Number)obj).doubleValue()));
+			return new Double(calculate(((Number)obj).doubleValue()));
 		} else if (obj == null) {
 			return null;
 		} else {
@@ -31,4 +30,8 @@ public class Cos extends Function {
 			throw new RQException("cos" + mm.getMessage("function.paramTypeError"));
 		}
 	}
+
+	protected double calculate(double d) {
+		return Math.cos(d);
+	}
 }
@@ -3,17 +3,16 @@ package com.scudata.expression.fn.math;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
-import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ĳһֵ˫ֵcosh(z)=(e^z+e^(-z))/2
+ * 返回某一数字的双曲余弦值cosh(z)=(e^z+e^(-z))/2
  * @author yanjing
  *
  */
-public class Cosh	extends Function {
+public class Cosh	extends DoubleFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -28,7 +27,7 @@ public class Cosh	extends Function {
 	public Object calculate(Context ctx) {
 		Object obj = param.getLeafExpression().calculate(ctx);
 		if (obj instanceof Number) {
-			return new Double(Math.cosh(((Number)obj).doubleValue()));
+			return new Double(calculate(((Number)obj).doubleValue()));
 		} else if (obj == null) {
 			return null;
 		} else {
@@ -36,4 +35,8 @@ public class Cosh	extends Function {
 			throw new RQException("cosh" + mm.getMessage("function.paramTypeError"));
 		}
 	}
+
+	protected double calculate(double d) {
+		return Math.cosh(d);
+	}
 }
@@ -11,9 +11,9 @@ import com.scudata.util.Variant;
 
 
 /**
- * digit(xi,)	sum(2i-1*xi)xiַʱת
-	@h	sum(16i-1*xi)xiַʱȰʮλת
-	@d	sum(10i-1*xi)xiַʱת
+ * digit(xi,…)	sum(2i-1*xi)，xi是字符串时先转成整数
+	@h	sum(16i-1*xi)，xi是字符串时先按十六进制数位规则转成数
+	@d	sum(10i-1*xi)，xi是字符串时先转成整数
 	@n	sum(2i-1*if(xi,1,0))
 
  * @author yanjing
@@ -21,7 +21,7 @@ import com.scudata.util.Variant;
  */
 public class Digit extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -45,7 +45,7 @@ public class Digit extends Function {
 	
 		long result=0;
 		int l=0;
-		if(option!=null && option.indexOf("h")>=0){//ʮ
+		if(option!=null && option.indexOf("h")>=0){//十六进制
 			for(int j=0;j<size;j++){
 				if(result1[j]!=null && result1[j] instanceof String){
 					result+=Math.pow(16, j+l)*Long.valueOf((String)result1[j],16).longValue();
@@ -64,7 +64,7 @@ public class Digit extends Function {
 					l+=n-1;
 				}
 			}
-		}else if(option!=null && option.indexOf("d")>=0){//10
+		}else if(option!=null && option.indexOf("d")>=0){//10进制
 			for(int j=0;j<size;j++){
 				if(result1[j]!=null && result1[j] instanceof String){
 					result+=Math.pow(10, j+l)*Variant.parseNumber((String)result1[j]).longValue();
@@ -83,7 +83,7 @@ public class Digit extends Function {
 					l+=n-1;
 				}
 			}	
-		}else if(option!=null && option.indexOf("n")>=0){//1ǿ0
+		}else if(option!=null && option.indexOf("n")>=0){//空1非空0
 			for(int j=0;j<size;j++){
 				if(result1[j] != null && result1[j] instanceof Sequence){
 					int n=((Sequence)result1[j]).length();
@@ -98,7 +98,7 @@ public class Digit extends Function {
 					result+=Math.pow(2, j+l);
 				}
 			}
-		}else{//
+		}else{//二进制
 			for(int j=0;j<size;j++){
 				if(result1[j]!=null && result1[j] instanceof String){
 					result+=Math.pow(2, j+l)*Variant.parseNumber((String)result1[j]).longValue();
@@ -10,7 +10,7 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 
-// dsִתddִ
+// 把ds进制数字串转换成dd进制数字串
 // digits(x:ds,dd)
 public class Digits extends Function {
 	private final static char[] digits = {
@@ -43,7 +43,7 @@ public class Digits extends Function {
 	}
     
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -0,0 +1,105 @@
+package com.scudata.expression.fn.math;
+
+import com.scudata.array.ConstArray;
+import com.scudata.array.DoubleArray;
+import com.scudata.array.IArray;
+import com.scudata.array.NumberArray;
+import com.scudata.array.ObjectArray;
+import com.scudata.common.MessageManager;
+import com.scudata.common.RQException;
+import com.scudata.dm.Context;
+import com.scudata.expression.Function;
+import com.scudata.resources.EngineMessage;
+
+/**
+ * 参数为一个数、结果为浮点数的数学函数，比如exp、cos，子类实现calculate(double)
+ * 批量计算时数值数组直接算出DoubleArray，不再逐行装箱
+ * @author RunQian
+ *
+ */
+public abstract class DoubleFunction extends Function {
+	/**
+	 * 计算一个数的函数值
+	 * @param d 参数值
+	 * @return 函数值
+	 */
+	protected abstract double calculate(double d);
+
+	// 计算单个值，参数为空时返回空
+	private Object calculate(Object obj) {
+		if (obj instanceof Number) {
+			return new Double(calculate(((Number)obj).doubleValue()));
+		} else if (obj == null) {
+			return null;
+		} else {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException(getFunctionName() + mm.getMessage("function.paramTypeError"));
+		}
+	}
+
+	/**
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx) {
+		IArray array = param.getLeafExpression().calculateAll(ctx);
+		return calculateAll(array, null);
+	}
+
+	/**
+	 * 计算signArray中取值为sign的行
+	 * @param ctx
+	 * @param signArray 行标识数组
+	 * @param sign 标识
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
+		IArray array = param.getLeafExpression().calculateAll(ctx, signArray, sign);
+		boolean[] signDatas;
+		if (sign) {
+			signDatas = signArray.isTrue().getDatas();
+		} else {
+			signDatas = signArray.isFalse().getDatas();
+		}
+
+		return calculateAll(array, signDatas);
+	}
+
+	// 对数组的每个成员计算函数值，signDatas不为空时只计算取值为true的行
+	private IArray calculateAll(IArray array, boolean []signDatas) {
+		int size = array.size();
+		if (array instanceof ConstArray) {
+			return new ConstArray(calculate(array.get(1)), size);
+		}
+
+		if (array instanceof NumberArray) {
+			NumberArray numberArray = (NumberArray)array;
+			DoubleArray result = new DoubleArray(size);
+			result.setTemporary(true);
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.pushDouble(0);
+				} else if (numberArray.isNull(i)) {
+					result.pushNull();
+				} else {
+					result.pushDouble(calculate(numberArray.getDouble(i)));
+				}
+			}
+
+			return result;
+		} else {
+			ObjectArray result = new ObjectArray(size);
+			result.setTemporary(true);
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.push(null);
+				} else {
+					result.push(calculate(array.get(i)));
+				}
+			}
+
+			return result;
+		}
+	}
+}
@@ -13,13 +13,13 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * гԱԼ,ֵԱԣֵԱԶȡ,С0ĳԱشֵ0
+ * 求序列成员或多个参数的最大公约数,非数值成员被忽略，数值成员被自动取整,若有小于0的成员返回错误值0
  * @author yanjing
  *
  */
 public class Gcd extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -72,15 +72,15 @@ public class Gcd extends Function {
 	}
 	
 	/**
-	 * ԼΪСҪõԵó
+	 * 求数组的最大公约数，因为最小公倍数函数要用到本函数，所以单独拿出来
 	 * @param num
 	 * @param k
 	 * @return
 	 */
 	public static long gcd(Number[] num,int k){
-		Arrays.sort(num);//С
+		Arrays.sort(num);//从小到大排序
 		
-		//СʼԼ
+		//从最小的数开始，挨个两两求最大公约数
 		long d = Variant.longValue(num[0]);
 		if (d<0) {
 			return 0;
@@ -96,7 +96,7 @@ public class Gcd extends Function {
 	}
 	
 	/**
-	 * Լȡŷ¶f(a,b)=f(b,a%b)
+	 * 求两个数的最大公约数，采取欧几里德定理，f(a,b)=f(b,a%b)
 	 * @param max
 	 * @param min
 	 * @return
@@ -113,7 +113,7 @@ public class Gcd extends Function {
 		}
 		
 		if(min==0) {
-			return max;//Ϊ0ܱκݰٶȰٿ
+			return max;//因为0能被任何数整除，依据百度百科
 		} else {
 			return gcd(min,max%min);
 		}
@@ -9,13 +9,13 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.HashUtil;
 
 /**
- * гԱhashֵhashֵ
+ * 求序列成员的hash值或多个参数的hash值
  * @author yanjing
- * hash(xi,;n)
+ * hash(xi,…;n)
  */
 public class Hash extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -9,13 +9,13 @@ import com.scudata.resources.EngineMessage;
 
 
 /**
- * ʮƴ
+ * 求参数的十六进制串
  * @author yanjing
  *
  */
 public class Hex extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -12,13 +12,13 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * гԱС,ֵԱԣֵԱԶȡСڵ0ĳԱشֵ0
+ * 求序列成员的最小公倍数,非数值成员被忽略，数值成员被自动取整，若有小于等于0的成员返回错误值0
  * @author yanjing
  *
  */
 public class Lcm extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -56,10 +56,10 @@ public class Lcm extends Function {
 		return new Long(lcm(nums));
 	}
 	
-	/**С㷨
-	 * [a1,a2,..,an] ʾa1,a2,..,anС(a1,a2,..,an)ʾa1,a2,..,anԼ
-	 * MΪa1,a2,..,anĳ˻
-	 * [a1,a2,..,an]=M/(M/a1,M/a2,..,M/an)
+	/**最小公倍数算法描述：
+	 * 令[a1,a2,..,an] 表示a1,a2,..,an的最小公倍数，(a1,a2,..,an)表示a1,a2,..,an的最大公约数
+	 * M为a1,a2,..,an的乘积
+	 * 则[a1,a2,..,an]=M/(M/a1,M/a2,..,M/an)
 	 * @return
 	 */
 	private long lcm(Number[] num){
@@ -70,7 +70,7 @@ public class Lcm extends Function {
 			M*=Variant.longValue(num[i]);
 			if(M<=0) return 0;
 		}
-		Number[] num1=new Number[k];//ΪɾΪյԱ˳M/a1,M/a2,..,M/an
+		Number[] num1=new Number[k];//为了删除为空的数组成员，顺便造M/a1,M/a2,..,M/an数组
 		for(int i=0;i<k;i++){
 			num1[i]=new Long(M/Variant.longValue(num[i]));
 		}
@@ -9,13 +9,13 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ָĵһĶlog(number,base), baseʡΪ10
+ * 按所指定的底数，返回一个数的对数。log(number,base), 若base省略则为10
  * @author yanjing
  *
  */
 public class Loga extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
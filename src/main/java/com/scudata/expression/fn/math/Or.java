@@ -13,12 +13,12 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * гԱİλ,ֵԱ
+ * 求序列成员或多个参数的按位或,非数值成员被忽略
  * @author yanjing
  *
  */
 public class Or extends Function {
-	// гԱλ
+	// 计算序列成员按位或
 	private static Object or(Sequence seq) {
 		int size = seq.length();
 		if (size == 0) {
@@ -28,11 +28,11 @@ public class Or extends Function {
 		}
 		
 		Object obj = seq.getMem(1);
-		boolean returnInt = true; // ǷȫInteger򷵻Integer򷵻Long
+		boolean returnInt = true; // 是否全部都是Integer，如果是则返回Integer，否则返回Long
 		long longValue = 0;
-		BigInteger bi = null; // BigInteger򷵻BigInteger
+		BigInteger bi = null; // 如果含有BigInteger则返回BigInteger
 		
-		// гԱBigDecimalBigIntegerʹBigInteger
+		// 如果有成员类型是BigDecimal或BigInteger则使用BigInteger运算
 		if (obj instanceof BigDecimal) {
 			bi = ((BigDecimal)obj).toBigInteger();
 		} else if (obj instanceof BigInteger) {
@@ -88,7 +88,7 @@ public class Or extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -114,11 +114,11 @@ public class Or extends Function {
 			}
 			
 			Object obj = sub.getLeafExpression().calculate(ctx);
-			boolean returnInt = true; // ǷȫInteger򷵻Integer򷵻Long
+			boolean returnInt = true; // 是否全部都是Integer，如果是则返回Integer，否则返回Long
 			long longValue = 0;
-			BigInteger bi = null; // BigInteger򷵻BigInteger
+			BigInteger bi = null; // 如果含有BigInteger则返回BigInteger
 			
-			// гԱBigDecimalBigIntegerʹBigInteger
+			// 如果有成员类型是BigDecimal或BigInteger则使用BigInteger运算
 			if (obj instanceof BigDecimal) {
 				bi = ((BigDecimal)obj).toBigInteger();
 			} else if (obj instanceof BigInteger) {
@@ -10,13 +10,13 @@ import com.scudata.util.Variant;
 
 
 /**
- * ,nѡkn<k||n<=0||k<=00nkԶȡ
+ * 求排列数,从n个对象中选出k个对象的排列数，n<k||n<=0||k<=0均返回0，n和k自动取整
  * @author yanjing
  *
  */
 public class Permut	extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -56,7 +56,7 @@ public class Permut	extends Function {
 	}
 	
 	/**
-	 * nȡk
+	 * 求从n个对象中取出k个对象的排列数
 	 * @param n
 	 * @param k
 	 * @return
@@ -10,7 +10,7 @@ import com.scudata.util.Variant;
 
 public class Pow extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
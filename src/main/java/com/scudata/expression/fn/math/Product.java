@@ -11,13 +11,13 @@ import com.scudata.util.Variant;
 
 
 /**
- * гԱĳ˻ĳ˻,ֵԱ
+ * 求序列成员的乘积或多个参数的乘积,非数值成员被忽略
  * @author yanjing
  *
  */
 public class Product extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
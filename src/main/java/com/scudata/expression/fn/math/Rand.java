@@ -8,8 +8,8 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * rand(n)	Сnnʡ򷵻[0,1]С
-	@s	趨
+ * rand(n)	返回小于n的随机整数，n省略则返回[0,1]区间的随机小数
+	@s	设定随机数种子
  *
  */
 public class Rand extends Function {
@@ -22,7 +22,7 @@ public class Rand extends Function {
 	}
 
 	public Object calculate(Context ctx) {
-		if (param == null) {//[0,1]С
+		if (param == null) {//返回[0,1]区间的随机小数
 			return new Double(ctx.getRandom().nextDouble());
 		} else if (param.isLeaf()) {
 			Object obj = param.getLeafExpression().calculate(ctx);
@@ -31,10 +31,10 @@ public class Rand extends Function {
 				throw new RQException("rand" + mm.getMessage("function.paramTypeError"));
 			}
 
-			if (option == null || option.indexOf('s') == -1) {//Сn
+			if (option == null || option.indexOf('s') == -1) {//返回小于n的随机整数
 				int n = ((Number)obj).intValue();
 				return new Integer(ctx.getRandom().nextInt(n));
-			} else {//趨
+			} else {//设定随机数种子
 				long seed = ((Number)obj).longValue();
 				ctx.getRandom(seed);
 				return null;
@@ -1,5 +1,11 @@
 package com.scudata.expression.fn.math;
 
+import com.scudata.array.ConstArray;
+import com.scudata.array.DoubleArray;
+import com.scudata.array.IArray;
+import com.scudata.array.IntArray;
+import com.scudata.array.LongArray;
+import com.scudata.array.ObjectArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
@@ -10,7 +16,7 @@ import com.scudata.util.Variant;
 
 public class Round extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -48,4 +54,86 @@ public class Round extends Function {
 			}
 		}
 	}
+
+	/**
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx) {
+		if (!param.isLeaf()) {
+			return super.calculateAll(ctx);
+		}
+		
+		IArray array = param.getLeafExpression().calculateAll(ctx);
+		return round(array, null);
+	}
+	
+	/**
+	 * 计算signArray中取值为sign的行
+	 * @param ctx
+	 * @param signArray 行标识数组
+	 * @param sign 标识
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
+		if (!param.isLeaf()) {
+			return super.calculateAll(ctx, signArray, sign);
+		}
+		
+		IArray array = param.getLeafExpression().calculateAll(ctx, signArray, sign);
+		boolean[] signDatas;
+		if (sign) {
+			signDatas = signArray.isTrue().getDatas();
+		} else {
+			signDatas = signArray.isFalse().getDatas();
+		}
+		
+		return round(array, signDatas);
+	}
+	
+	// 对数组的每个成员做四舍五入，signDatas不为空时只计算取值为true的行
+	private static IArray round(IArray array, boolean []signDatas) {
+		int size = array.size();
+		if (array instanceof ConstArray) {
+			return new ConstArray(Variant.round(array.get(1)), size);
+		} else if (array instanceof IntArray || array instanceof LongArray) {
+			// 整数四舍五入后不变，叶子节点返回的可能是字段的数组，复制一份避免被调用者修改
+			IArray result = array.dup();
+			result.setTemporary(true);
+			return result;
+		} else if (array instanceof DoubleArray) {
+			DoubleArray doubleArray = (DoubleArray)array;
+			DoubleArray result = new DoubleArray(size);
+			result.setTemporary(true);
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.pushDouble(0);
+				} else if (doubleArray.isNull(i)) {
+					result.pushNull();
+				} else {
+					double d = doubleArray.getDouble(i);
+					if (d > Long.MIN_VALUE && d < Long.MAX_VALUE) {
+						result.pushDouble(Math.round(d));
+					} else {
+						result.pushDouble(d);
+					}
+				}
+			}
+			
+			return result;
+		} else {
+			ObjectArray result = new ObjectArray(size);
+			result.setTemporary(true);
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.push(null);
+				} else {
+					result.push(Variant.round(array.get(i)));
+				}
+			}
+			
+			return result;
+		}
+	}
 }
@@ -13,7 +13,7 @@ import com.scudata.resources.EngineMessage;
 
 
 /**
- * λ㣬s<0ƣs>0
+ * 移位运算，s<0左移，s>0右移
  * @author yanjing
  *
  */
@@ -22,7 +22,7 @@ public class Shift	extends Function {
 	private Expression exp2;
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -68,44 +68,44 @@ public class Shift	extends Function {
 		
 		if (result1 instanceof BigDecimal) {
 			BigInteger bi = ((BigDecimal)result1).toBigInteger();
-			if (n > 0) { // 
+			if (n > 0) { // 右移
 				bi = bi.shiftRight(n);
-			} else { // 
+			} else { // 左移
 				bi = bi.shiftLeft(-n);
 			}
 			
 			return new BigDecimal(bi);
 		} else if (result1 instanceof BigInteger) {
 			BigInteger bi = (BigInteger)result1;
-			if (n > 0) { // 
+			if (n > 0) { // 右移
 				bi = bi.shiftRight(n);
-			} else { // 
+			} else { // 左移
 				bi = bi.shiftLeft(-n);
 			}
 			
 			return new BigDecimal(bi);
 		} else if (result1 instanceof Integer) {
 			int x = ((Number)result1).intValue();
-			if (n > 0) { // 
+			if (n > 0) { // 右移
 				if (option == null || option.indexOf('s') == -1) {
-					// λ0
+					// 符号位补0
 					return x >>> n;
 				} else {
 					return x >> n;
 				}
-			} else { // 
+			} else { // 左移
 				return x << -n;
 			}
 		} else {
 			long x = ((Number)result1).longValue();
-			if (n > 0) { // 
+			if (n > 0) { // 右移
 				if (option == null || option.indexOf('s') == -1) {
-					// λ0
+					// 符号位补0
 					return x >>> n;
 				} else {
 					return x >> n;
 				}
-			} else { // 
+			} else { // 左移
 				return x << -n;
 			}
 		}
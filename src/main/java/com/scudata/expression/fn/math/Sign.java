@@ -3,6 +3,11 @@ package com.scudata.expression.fn.math;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import com.scudata.array.ConstArray;
+import com.scudata.array.DoubleArray;
+import com.scudata.array.IArray;
+import com.scudata.array.IntArray;
+import com.scudata.array.LongArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.ObjectCache;
 import com.scudata.common.RQException;
@@ -12,7 +17,7 @@ import com.scudata.resources.EngineMessage;
 
 public class Sign extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -26,6 +31,10 @@ public class Sign extends Function {
 
 	public Object calculate(Context ctx) {
 		Object obj = param.getLeafExpression().calculate(ctx);
+		return sign(obj);
+	}
+	
+	private static Object sign(Object obj) {
 		if (obj instanceof Integer) {
 			int cmp = Integer.compare(((Integer)obj).intValue(), 0);
 			return ObjectCache.getInteger(cmp);
@@ -53,4 +62,94 @@ public class Sign extends Function {
 			throw new RQException("sign" + mm.getMessage("function.paramTypeError"));
 		}
 	}
+
+	/**
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx) {
+		IArray array = param.getLeafExpression().calculateAll(ctx);
+		return sign(array, null);
+	}
+	
+	/**
+	 * 计算signArray中取值为sign的行
+	 * @param ctx
+	 * @param signArray 行标识数组
+	 * @param sign 标识
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
+		IArray array = param.getLeafExpression().calculateAll(ctx, signArray, sign);
+		boolean[] signDatas;
+		if (sign) {
+			signDatas = signArray.isTrue().getDatas();
+		} else {
+			signDatas = signArray.isFalse().getDatas();
+		}
+		
+		return sign(array, signDatas);
+	}
+	
+	// 取数组每个成员的符号，signDatas不为空时只计算取值为true的行
+	private static IArray sign(IArray array, boolean []signDatas) {
+		int size = array.size();
+		if (array instanceof ConstArray) {
+			return new ConstArray(sign(array.get(1)), size);
+		}
+		
+		IntArray result = new IntArray(size);
+		result.setTemporary(true);
+		
+		if (array instanceof IntArray) {
+			IntArray intArray = (IntArray)array;
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.pushInt(0);
+				} else if (intArray.isNull(i)) {
+					result.pushNull();
+				} else {
+					result.pushInt(Integer.compare(intArray.getInt(i), 0));
+				}
+			}
+		} else if (array instanceof LongArray) {
+			LongArray longArray = (LongArray)array;
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.pushInt(0);
+				} else if (longArray.isNull(i)) {
+					result.pushNull();
+				} else {
+					result.pushInt(Long.compare(longArray.getLong(i), 0L));
+				}
+			}
+		} else if (array instanceof DoubleArray) {
+			DoubleArray doubleArray = (DoubleArray)array;
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.pushInt(0);
+				} else if (doubleArray.isNull(i)) {
+					result.pushNull();
+				} else {
+					result.pushInt(Double.compare(doubleArray.getDouble(i), 0.0));
+				}
+			}
+		} else {
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.pushInt(0);
+				} else {
+					Object value = sign(array.get(i));
+					if (value == null) {
+						result.pushNull();
+					} else {
+						result.pushInt(((Integer)value).intValue());
+					}
+				}
+			}
+		}
+		
+		return result;
+	}
 }
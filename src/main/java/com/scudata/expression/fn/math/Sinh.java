@@ -3,17 +3,16 @@ package com.scudata.expression.fn.math;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
-import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ĳһֵ˫ֵsinh(z)=(e^z-e^(-z))/2
+ * 返回某一数字的双曲正弦值sinh(z)=(e^z-e^(-z))/2
  * @author yanjing
  *
  */
-public class Sinh extends Function {
+public class Sinh extends DoubleFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -28,7 +27,7 @@ public class Sinh extends Function {
 	public Object calculate(Context ctx) {
 		Object obj = param.getLeafExpression().calculate(ctx);
 		if (obj instanceof Number) {
-			return new Double(Math.sinh(((Number)obj).doubleValue()));
+			return new Double(calculate(((Number)obj).doubleValue()));
 		} else if (obj == null) {
 			return null;
 		} else {
@@ -36,4 +35,8 @@ public class Sinh extends Function {
 			throw new RQException("sinh" + mm.getMessage("function.paramTypeError"));
 		}
 	}
+
+	protected double calculate(double d) {
+		return Math.sinh(d);
+	}
 }
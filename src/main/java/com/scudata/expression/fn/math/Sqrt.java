@@ -1,5 +1,10 @@
 package com.scudata.expression.fn.math;
 
+import com.scudata.array.ConstArray;
+import com.scudata.array.DoubleArray;
+import com.scudata.array.IArray;
+import com.scudata.array.NumberArray;
+import com.scudata.array.ObjectArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
@@ -10,7 +15,7 @@ import com.scudata.resources.EngineMessage;
 
 public class Sqrt extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -22,15 +27,7 @@ public class Sqrt extends Function {
 	public Object calculate(Context ctx) {
 		if (param.isLeaf()) {
 			Expression param1 = param.getLeafExpression();
-			Object result = param1.calculate(ctx);
-			if (result instanceof Number) {
-				return new Double(Math.sqrt(((Number)result).doubleValue()));
-			} else if (result == null) {
-				return null;
-			} else {
-				MessageManager mm = EngineMessage.get();
-				throw new RQException("sqrt" + mm.getMessage("function.paramTypeError"));
-			}
+			return sqrt(param1.calculate(ctx));
 		} else if (param.getSubSize() == 2) {
 			IParam sub0 = param.getSub(0);
 			IParam sub1 = param.getSub(1);
@@ -60,5 +57,89 @@ public class Sqrt extends Function {
 			throw new RQException("sqrt" + mm.getMessage("function.invalidParam"));
 		}
 	}
+	
+	private static Object sqrt(Object result) {
+		if (result instanceof Number) {
+			return new Double(Math.sqrt(((Number)result).doubleValue()));
+		} else if (result == null) {
+			return null;
+		} else {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException("sqrt" + mm.getMessage("function.paramTypeError"));
+		}
+	}
 
+	/**
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx) {
+		if (!param.isLeaf()) {
+			return super.calculateAll(ctx);
+		}
+		
+		IArray array = param.getLeafExpression().calculateAll(ctx);
+		return sqrt(array, null);
+	}
+	
+	/**
+	 * 计算signArray中取值为sign的行
+	 * @param ctx
+	 * @param signArray 行标识数组
+	 * @param sign 标识
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
+		if (!param.isLeaf()) {
+			return super.calculateAll(ctx, signArray, sign);
+		}
+		
+		IArray array = param.getLeafExpression().calculateAll(ctx, signArray, sign);
+		boolean[] signDatas;
+		if (sign) {
+			signDatas = signArray.isTrue().getDatas();
+		} else {
+			signDatas = signArray.isFalse().getDatas();
+		}
+		
+		return sqrt(array, signDatas);
+	}
+	
+	// 对数组的每个成员做开平方，signDatas不为空时只计算取值为true的行
+	private static IArray sqrt(IArray array, boolean []signDatas) {
+		int size = array.size();
+		if (array instanceof ConstArray) {
+			return new ConstArray(sqrt(array.get(1)), size);
+		}
+		
+		if (array instanceof NumberArray) {
+			NumberArray numberArray = (NumberArray)array;
+			DoubleArray result = new DoubleArray(size);
+			result.setTemporary(true);
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.pushDouble(0);
+				} else if (numberArray.isNull(i)) {
+					result.pushNull();
+				} else {
+					result.pushDouble(Math.sqrt(numberArray.getDouble(i)));
+				}
+			}
+			
+			return result;
+		} else {
+			ObjectArray result = new ObjectArray(size);
+			result.setTemporary(true);
+			for (int i = 1; i <= size; ++i) {
+				if (signDatas != null && !signDatas[i]) {
+					result.push(null);
+				} else {
+					result.push(sqrt(array.get(i)));
+				}
+			}
+			
+			return result;
+		}
+	}
 }
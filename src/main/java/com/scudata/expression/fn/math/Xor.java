@@ -14,12 +14,12 @@ import com.scudata.util.Variant;
 
 
 /**
- * гԱİλ,ֵԱ
+ * 求序列成员或多个参数的按位异或,非数值成员被忽略
  * @author yanjing
  *
  */
 public class Xor extends Function {
-	// гԱλ
+	// 计算序列成员按位异或
 	private static Object xor(Sequence seq) {
 		int size = seq.length();
 		if (size == 0) {
@@ -32,7 +32,7 @@ public class Xor extends Function {
 		long longValue = 0;
 		BigInteger bi = null;
 		
-		// гԱBigDecimalBigIntegerʹBigInteger
+		// 如果有成员类型是BigDecimal或BigInteger则使用BigInteger运算
 		if (obj instanceof BigDecimal) {
 			bi = ((BigDecimal)obj).toBigInteger();
 		} else if (obj instanceof BigInteger) {
@@ -76,7 +76,7 @@ public class Xor extends Function {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -105,7 +105,7 @@ public class Xor extends Function {
 			long longValue = 0;
 			BigInteger bi = null;
 			
-			// гԱBigDecimalBigIntegerʹBigInteger
+			// 如果有成员类型是BigDecimal或BigInteger则使用BigInteger运算
 			if (obj instanceof BigDecimal) {
 				bi = ((BigDecimal)obj).toBigInteger();
 			} else if (obj instanceof BigInteger) {
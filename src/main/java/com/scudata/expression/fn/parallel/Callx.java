@@ -15,7 +15,7 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 
-// callx(dfx,;;x)callx@la(dfx,;hs;x)
+// callx(dfx,…;;x)callx@la(dfx,…;hs;x)
 public class Callx extends Function {
 	public Node optimize(Context ctx) {
 		if (param != null)
@@ -90,8 +90,8 @@ public class Callx extends Function {
 
 		String dfx;
 		IParam dfxParam;
-		int mcount = -1; // 
-		Object[] args = null; // 
+		int mcount = -1; // 并行数
+		Object[] args = null; // 参数
 
 		if (leftParam != null && leftParam.getType() == IParam.Comma) {
 			dfxParam = leftParam.getSub(0);
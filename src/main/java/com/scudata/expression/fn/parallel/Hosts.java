@@ -11,10 +11,10 @@ import com.scudata.expression.Node;
 import com.scudata.resources.EngineMessage;
 
 /**
- * hosts(;j)	ȡֻjڴţjʡ
- * hosts(i;j)	ñֻjڴţi=0ʾjڴ
- * hosts(n,hs;j)	hsҳhosts(;j)ֵΪ1,,nĿ÷ֻСȱʧhosts()ΪյķֻӦȱʧִֵгʼ(init.dfx)Ҳ㹻ֻؿ
- * n==0ʱؿ÷ֻ÷ֻλnull
+ * hosts(;j)	取出本分机上任务j的内存区号，j可省略
+ * hosts(i;j)	设置本分机上任务j的内存区号，i=0表示清除任务j的内存区号
+ * hosts(n,hs;j)	在hs中找出hosts(;j)返回值为1,…,n的可用分机序列。有缺失者则在hosts()为空的分机用相应缺失值执行初始化(init.dfx)，找不到足够多分机返回空
+ * n==0时返回可用分机，不可用分机的位置填成null
 
  * @author Joancy
  */
@@ -7,8 +7,8 @@ import com.scudata.parallel.PartitionUtil;
 import com.scudata.resources.EngineMessage;
 
 /**
- * syncfile(hs,p)	ͬǰp·µļֻhsp·ýµ滻Ͼɵģɾ
- * ·pΪ· ·ʱ ·pʡ
+ * syncfile(hs,p)	同步当前机器p路径下的文件到分机序列hs的p路径，用较新的替换较旧的，不删除冗余
+ * 路径p可以为相对路径， 相对路径时， 相对主路径，p不能省略
  * @author Joancy
  *
  */
@@ -19,7 +19,7 @@ public class SyncFile extends Function {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
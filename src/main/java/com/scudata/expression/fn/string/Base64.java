@@ -12,13 +12,13 @@ import com.scudata.resources.EngineMessage;
 
 /**
  * base64(x:cs,cs')
- * csַȡxеBLOBתbase64base64xתcsַĴַʡʱȱʡBLOB
+ * 用cs字符集取出x中的BLOB转成base64串，或将base64串x转成cs’字符集的串，字符集省略时缺省按BLOB处理
  * @author runqian
  *
  */
 public class Base64 extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -6,8 +6,8 @@ import com.scudata.expression.fn.CharFunction;
 
 /*********************************** 
  * charencode(str, charset) 
- * parament strbyte[]ʱ룬Stringʱ
- * parament charset, (utf8, gb2312, gbk...)
+ * parament str：其数据类型是byte[]时解码，是String时编码
+ * parament charset, 编码(utf8, gb2312, gbk...)
  *****************/
 public class CharEncode extends CharFunction {
 	
@@ -1,21 +1,25 @@
 package com.scudata.expression.fn.string;
 
+import com.scudata.array.ConstArray;
+import com.scudata.array.IArray;
+import com.scudata.array.StringArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
 import com.scudata.dm.Sequence;
+import com.scudata.expression.Expression;
 import com.scudata.expression.Function;
 import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * concat(xi,) ӳΪַҴƴʱš
+ * concat(xi,…) 将参数连接成为字符串，且串拼入时不加引号。
  * @author runqian
  *
  */
 public class Concat extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -55,4 +59,104 @@ public class Concat extends Function {
 
 		return sb.toString();
 	}
+
+	// 取参数表达式
+	private Expression[] getParamExpressions() {
+		if (param.isLeaf()) {
+			return new Expression[] {param.getLeafExpression()};
+		}
+		
+		int size = param.getSubSize();
+		Expression []exps = new Expression[size];
+		for (int i = 0; i < size; ++i) {
+			IParam sub = param.getSub(i);
+			if (sub == null || !sub.isLeaf()) {
+				MessageManager mm = EngineMessage.get();
+				throw new RQException("concat" + mm.getMessage("function.invalidParam"));
+			}
+			
+			exps[i] = sub.getLeafExpression();
+		}
+		
+		return exps;
+	}
+
+	/**
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx) {
+		Expression []exps = getParamExpressions();
+		IArray []arrays = new IArray[exps.length];
+		for (int i = 0; i < exps.length; ++i) {
+			arrays[i] = exps[i].calculateAll(ctx);
+		}
+		
+		return concatAll(arrays, null);
+	}
+
+	/**
+	 * 计算signArray中取值为sign的行
+	 * @param ctx
+	 * @param signArray 行标识数组
+	 * @param sign 标识
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
+		Expression []exps = getParamExpressions();
+		IArray []arrays = new IArray[exps.length];
+		for (int i = 0; i < exps.length; ++i) {
+			arrays[i] = exps[i].calculateAll(ctx, signArray, sign);
+		}
+		
+		boolean[] signDatas;
+		if (sign) {
+			signDatas = signArray.isTrue().getDatas();
+		} else {
+			signDatas = signArray.isFalse().getDatas();
+		}
+		
+		return concatAll(arrays, signDatas);
+	}
+	
+	// 按行连接参数数组的成员，signDatas不为空时只计算取值为true的行
+	private static IArray concatAll(IArray []arrays, boolean []signDatas) {
+		int size = arrays[0].size();
+		boolean isConst = true;
+		for (IArray array : arrays) {
+			if (!(array instanceof ConstArray)) {
+				isConst = false;
+				break;
+			}
+		}
+		
+		if (isConst) {
+			StringBuffer sb = new StringBuffer();
+			for (IArray array : arrays) {
+				concat(array.get(1), sb);
+			}
+			
+			return new ConstArray(sb.toString(), size);
+		}
+		
+		StringArray result = new StringArray(size);
+		result.setTemporary(true);
+		StringBuffer sb = new StringBuffer();
+		for (int i = 1; i <= size; ++i) {
+			if (signDatas != null && !signDatas[i]) {
+				result.push(null);
+				continue;
+			}
+			
+			sb.setLength(0);
+			for (IArray array : arrays) {
+				concat(array.get(i), sb);
+			}
+			
+			result.push(sb.toString());
+		}
+		
+		return result;
+	}
 }
@@ -16,8 +16,8 @@ import com.scudata.resources.EngineMessage;
 
 /**
  * like( stringExp, formatExp )
- * жַǷƥʽʽе*ƥ0ַ?ƥ䵥ַ
- * ͨתƥ"*",磺\*תΪ*\\תΪ\
+ * 判断字符串是否匹配格式串。格式串中的*匹配0个或多个字符，?匹配单个字符，
+ * 可以通过转义符匹配"*",例如：\*转义为*，\\转义为\
  * @author runqian
  *
  */
@@ -26,7 +26,7 @@ public class Like extends Function {
 	private Expression exp2;
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -80,8 +80,8 @@ public class Like extends Function {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -150,7 +150,7 @@ public class Like extends Function {
 				byte[] len = stringArray.getLen();
 				boolean[] resultArray = result.getDatas();
 				
-				//ûУûת\ʱʹÿģʽ
+				//当没有？且没有转义符\时，使用快速模式
 				boolean fast = (str2.indexOf('?') == -1) && (str2.indexOf('\\') == -1);
 				if (fast) {
 					for (int i = 1; i <= size; ++i) {
@@ -225,10 +225,10 @@ public class Like extends Function {
 	}
 
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -309,7 +309,7 @@ public class Like extends Function {
 				byte[] len = stringArray.getLen();
 				boolean[] resultArray = result.getDatas();
 				
-				//ûУûת\ʱʹÿģʽ
+				//当没有？且没有转义符\时，使用快速模式
 				boolean fast = (str2.indexOf('?') == -1) && (str2.indexOf('\\') == -1);
 				if (fast) {
 					for (int i = 1; i <= size; ++i) {
@@ -405,9 +405,9 @@ public class Like extends Function {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -492,7 +492,7 @@ public class Like extends Function {
 				int[] posArr = stringArray.getPos();
 				byte[] len = stringArray.getLen();
 				
-				//ûУûת\ʱʹÿģʽ
+				//当没有？且没有转义符\时，使用快速模式
 				boolean fast = (str2.indexOf('?') == -1) && (str2.indexOf('\\') == -1);
 				if (fast) {
 					for (int i = 1; i <= size; ++i) {
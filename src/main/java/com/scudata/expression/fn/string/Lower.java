@@ -12,13 +12,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * lower(s) ַתСд
+ * lower(s) 将字符串转成小写
  * @author runqian
  *
  */
 public class Lower extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -47,7 +47,7 @@ public class Lower extends Function {
 		}
 	}
 	
-	// ڵ
+	// 忽略引号内的
 	private String lower(String str) {
 		int len = str.length();
 		if (len < 3) {
@@ -85,8 +85,8 @@ public class Lower extends Function {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -156,10 +156,10 @@ public class Lower extends Function {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -8,13 +8,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Md5(s) ִsMD5ǩ
+ * Md5(s) 返回字串s的MD5签名
  * @author runqian
  *
  */
 public class MD5Encrypt extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
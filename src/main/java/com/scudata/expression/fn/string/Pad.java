@@ -1,5 +1,8 @@
 package com.scudata.expression.fn.string;
 
+import com.scudata.array.ConstArray;
+import com.scudata.array.IArray;
+import com.scudata.array.StringArray;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
@@ -9,7 +12,7 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * pad(s,c,l) ַsǰƴַcֱһַܳΪlΪֹ
+ * pad(s,c,l) 在字符串s前连续拼接字符串c，直到第一个字符串的总长度为l为止。
  * @author runqian
  *
  */
@@ -19,7 +22,7 @@ public class Pad extends Function {
 	private Expression exp3;
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -105,4 +108,67 @@ public class Pad extends Function {
 			}
 		}
 	}
+
+	// 计算一行，参数类型不对时抛出异常
+	private String pad(Object o1, Object o2, Object o3) {
+		if (!(o1 instanceof String) || !(o2 instanceof String) || !(o3 instanceof Number)) {
+			MessageManager mm = EngineMessage.get();
+			throw new RQException("pad" + mm.getMessage("function.paramTypeError"));
+		}
+		
+		return pad((String)o1, (String)o2, ((Number)o3).intValue(), option);
+	}
+
+	/**
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx) {
+		IArray array1 = exp1.calculateAll(ctx);
+		IArray array2 = exp2.calculateAll(ctx);
+		IArray array3 = exp3.calculateAll(ctx);
+		return padAll(array1, array2, array3, null);
+	}
+
+	/**
+	 * 计算signArray中取值为sign的行
+	 * @param ctx
+	 * @param signArray 行标识数组
+	 * @param sign 标识
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
+		IArray array1 = exp1.calculateAll(ctx, signArray, sign);
+		IArray array2 = exp2.calculateAll(ctx, signArray, sign);
+		IArray array3 = exp3.calculateAll(ctx, signArray, sign);
+		boolean[] signDatas;
+		if (sign) {
+			signDatas = signArray.isTrue().getDatas();
+		} else {
+			signDatas = signArray.isFalse().getDatas();
+		}
+		
+		return padAll(array1, array2, array3, signDatas);
+	}
+	
+	// 按行补齐，signDatas不为空时只计算取值为true的行
+	private IArray padAll(IArray array1, IArray array2, IArray array3, boolean []signDatas) {
+		int size = array1.size();
+		if (array1 instanceof ConstArray && array2 instanceof ConstArray && array3 instanceof ConstArray) {
+			return new ConstArray(pad(array1.get(1), array2.get(1), array3.get(1)), size);
+		}
+		
+		StringArray result = new StringArray(size);
+		result.setTemporary(true);
+		for (int i = 1; i <= size; ++i) {
+			if (signDatas != null && !signDatas[i]) {
+				result.push(null);
+			} else {
+				result.push(pad(array1.get(i), array2.get(i), array3.get(i)));
+			}
+		}
+		
+		return result;
+	}
 }
@@ -15,16 +15,16 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * pos(s1, s2{, begin}) ĸs1ʼλΪbeginӴs2λãҲnull
- * @c	Сд
- * @h	ֻͷ
- * @z	ǰң@hʱֻβ
+ * pos(s1, s2{, begin}) 查找母串s1中起始位置为begin的子串s2的位置，找不到返回null。
+ * @c	大小写不敏感
+ * @h	只比头部
+ * @z	向前找，有@h时只比尾部
  * @author runqian
  *
  */
 public class Pos extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -183,7 +183,7 @@ public class Pos extends Function {
 		return true;
 	}
 
-	// ҵֵ0
+	// 如果能找到返回值大于0
 	private static int pos(String str1, String str2, int begin, String option) {
 		boolean isFirst = true, ignoreCase = false, headOnly = false;
 		if (option != null) {
@@ -305,8 +305,8 @@ public class Pos extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -508,10 +508,10 @@ public class Pos extends Function {
 	}
 
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -740,9 +740,9 @@ public class Pos extends Function {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -13,7 +13,7 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * replace(src,a,b) ַsrcַaΪַb
+ * replace(src,a,b) 将字符串src的子字符串a变为字符串b
  * @author runqian
  *
  */
@@ -23,7 +23,7 @@ public class Replace extends Function {
 	private Expression exp3;
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -75,17 +75,17 @@ public class Replace extends Function {
 		int flag = Sentence.IGNORE_PARS;
 		if (option != null) {
 			if (option.indexOf('q') == -1) {
-				//ַҲҪ任
+				//引号里面的字符也需要变换
 				flag += Sentence.IGNORE_QUOTE;
 			}
 			
 			if (option.indexOf('1') != -1) {
-				// ֻ滻һ
+				// 只替换第一个
 				flag += Sentence.ONLY_FIRST;
 			}
 			
 			if (option.indexOf('c') != -1) {
-				// ԴСд
+				// 忽略大小写
 				flag += Sentence.IGNORE_CASE;
 			}
 		} else {
@@ -96,8 +96,8 @@ public class Replace extends Function {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -109,17 +109,17 @@ public class Replace extends Function {
 		int flag = Sentence.IGNORE_PARS;
 		if (option != null) {
 			if (option.indexOf('q') == -1) {
-				//ַҲҪ任
+				//引号里面的字符也需要变换
 				flag += Sentence.IGNORE_QUOTE;
 			}
 			
 			if (option.indexOf('1') != -1) {
-				// ֻ滻һ
+				// 只替换第一个
 				flag += Sentence.ONLY_FIRST;
 			}
 			
 			if (option.indexOf('c') != -1) {
-				// ԴСд
+				// 忽略大小写
 				flag += Sentence.IGNORE_CASE;
 			}
 		} else {
@@ -216,10 +216,10 @@ public class Replace extends Function {
 	}
 
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -238,17 +238,17 @@ public class Replace extends Function {
 		int flag = Sentence.IGNORE_PARS;
 		if (option != null) {
 			if (option.indexOf('q') == -1) {
-				//ַҲҪ任
+				//引号里面的字符也需要变换
 				flag += Sentence.IGNORE_QUOTE;
 			}
 			
 			if (option.indexOf('1') != -1) {
-				// ֻ滻һ
+				// 只替换第一个
 				flag += Sentence.ONLY_FIRST;
 			}
 			
 			if (option.indexOf('c') != -1) {
-				// ԴСд
+				// 忽略大小写
 				flag += Sentence.IGNORE_CASE;
 			}
 		} else {
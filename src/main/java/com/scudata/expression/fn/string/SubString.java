@@ -14,10 +14,10 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * substr(s1,s2) ַs1Уߵ1ַʼַs2ҵ󷵻s2λúĴs2ַʱؿ
- * @l	s2ǰִ
- * @c	Сд
- * @q	Ĳ
+ * substr(s1,s2) 在字符串s1中，从左边第1个字符开始查找字符串s2，找到后返回s2位置后面的串。当s2后面无字符串时返回空
+ * @l	返回s2前面的字串
+ * @c	大小写不敏感
+ * @q	引号里的不算
  * @author runqian
  *
  */
@@ -26,7 +26,7 @@ public class SubString extends Function {
 	private Expression exp2;
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -67,8 +67,8 @@ public class SubString extends Function {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -169,10 +169,10 @@ public class SubString extends Function {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
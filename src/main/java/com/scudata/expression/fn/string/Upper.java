@@ -12,13 +12,13 @@ import com.scudata.expression.Function;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ַתɴд
+ * 把字符串转成大写
  * @author runqian
  *
  */
 public class Upper extends Function {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -48,7 +48,7 @@ public class Upper extends Function {
 		}
 	}
 
-	// ڵ
+	// 忽略引号内的
 	private String upper(String str) {
 		int len = str.length();
 		if (len < 3) {
@@ -86,10 +86,10 @@ public class Upper extends Function {
 	}
 
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -176,8 +176,8 @@ public class Upper extends Function {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
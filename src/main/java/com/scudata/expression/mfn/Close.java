@@ -6,8 +6,8 @@ import com.scudata.expression.MemberFunction;
 import com.scudata.vdb.VDB;
 
 /**
- * رԴ
- * db.close() T.close() cs.close()
+ * 关闭资源
+ * db.close() T.close() cs.close()等
  * @author RunQian
  *
  */
@@ -12,7 +12,7 @@ import com.scudata.resources.EngineMessage;
 
 
 /**
- * кȡеļ¼ֶ
+ * 根据行号取排列的记录或字段
  * k.r(T), k.r(T, F)
  * @author RunQian
  *
@@ -24,7 +24,7 @@ public class RowField extends MemberFunction {
 	private int col;
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -9,7 +9,7 @@ import com.scudata.parallel.ClusterMemoryTable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ֵвҼ¼
+ * 根据主键值到表中查找记录
  * k.row(T)
  * @author RunQian
  *
@@ -18,7 +18,7 @@ public class TableRow extends MemberFunction {
 	protected Object src;
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
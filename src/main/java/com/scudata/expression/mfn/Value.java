@@ -5,7 +5,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.MemberFunction;
 
 /**
- * ؼ¼ļû򷵻ֶɵУǼ¼򷵻ر
+ * 返回记录的键，如果没有主键则返回所有字段组成的序列，如果不是记录则返回本身
  * v.v()
  * @author RunQian
  *
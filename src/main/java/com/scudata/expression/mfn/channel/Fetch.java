@@ -8,7 +8,7 @@ import com.scudata.expression.ChannelFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ϊܵ屣ܵǰΪ
+ * 为管道定义保留管道当前数据作为结果集的运算
  * ch.fetch()
  * @author RunQian
  *
@@ -9,8 +9,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ΪܵȡָʽĲֵͬγɵезصĽ
- * ch.id(xi,;n) ֻһxiʱسһУÿxiҵnңnʡԷ
+ * 为管道定义获取指定表达式的不同值形成的序列的序列返回的结果集运算
+ * ch.id(xi,…;n) 只有一个xi时返回成一个序列，每个xi找到n个后不再找，n省略返回所有
  * @author RunQian
  *
  */
@@ -21,7 +21,7 @@ public class Id extends ChannelFunction {
 			throw new RQException("id" + mm.getMessage("function.missingParam"));
 		}
 
-		// ûnȡ
+		// 没有设置n参数则取出所有
 		int n = Integer.MAX_VALUE;
 		IParam expParam;
 		if (param.getType() == IParam.Semicolon) {
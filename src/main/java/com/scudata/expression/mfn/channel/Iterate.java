@@ -9,7 +9,7 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ϊܵ
+ * 为管道定义迭代结果集运算
  * ch.iterate(x,a,c)
  * @author WangXiaoJun
  *
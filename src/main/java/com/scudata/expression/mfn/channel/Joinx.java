@@ -10,8 +10,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ϊܵлӽ
- * ch.joinx(C:,f:K:,x:F,;;;n)
+ * 为管道定义与排列或者外存表做连接结果集运算
+ * ch.joinx(C:…,f:K:…,x:F,…;…;…;n)
  * @author RunQian
  *
  */
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.ChannelFunction;
 
 /**
- * ȡܵļ
+ * 取管道的计算结果
  * ch.result()
  * @author RunQian
  *
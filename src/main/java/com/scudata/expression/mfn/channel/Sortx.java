@@ -9,8 +9,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ϊܵ
- * ch.sortx(x;n)
+ * 为管道定义外存排序结果集运算
+ * ch.sortx(x…;n)
  * @author RunQian
  *
  */
@@ -58,7 +58,7 @@ public class Sortx extends ChannelFunction {
 		}
 
 		Expression []exps;
-		if (sortParam.isLeaf()) { // ֻһ
+		if (sortParam.isLeaf()) { // 只有一个参数
 			exps = new Expression[]{ sortParam.getLeafExpression() };
 		} else if (sortParam.getType() == IParam.Comma) { // ,
 			int size = sortParam.getSubSize();
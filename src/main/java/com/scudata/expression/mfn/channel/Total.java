@@ -8,8 +8,8 @@ import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ϊܵܽ
- * ch.total(y,)
+ * 为管道定义汇总结果集运算
+ * ch.total(y,…)
  * @author RunQian
  *
  */
@@ -8,7 +8,7 @@ import com.scudata.expression.ClusterPhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ׷αݵȺ
+ * 追加游标数据到集群组表中
  * T.append(cs)
  * @author RunQian
  *
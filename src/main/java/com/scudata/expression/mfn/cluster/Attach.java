@@ -7,8 +7,8 @@ import com.scudata.expression.ClusterPhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡȺĸΪȺӸ
- * T.attach(T,C)
+ * 取集群组表的附表或者为集群组表增加附表
+ * T.attach(T’,C…)
  * @author RunQian
  *
  */
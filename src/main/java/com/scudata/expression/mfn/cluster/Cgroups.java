@@ -12,8 +12,8 @@ import com.scudata.expression.ParamInfo2;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ԥ
- * T.cgroups(Fi,;y:Gi,;w)
+ * 利用预汇总立方体计算分组汇总
+ * T.cgroups(Fi,…;y:Gi,…;w)
  * @author RunQian
  *
  */
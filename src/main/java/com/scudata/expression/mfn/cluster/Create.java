@@ -9,8 +9,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ⱥļ
- * f.create(C,;x)
+ * 创建集群组表文件
+ * f.create(C,…;x)
  * @author RunQian
  *
  */
@@ -93,7 +93,7 @@ public class CreateCuboid  extends ClusterPhyTableFunction {
 			}
 		}
 		
-		//Ϊcuboid
+		//为cuboid命名
 		FileObject fo = new FileObject(table.getClusterFile().getFileName() + Cuboid.CUBE_PREFIX + C);
 		if (fo.isExists())
 		{
@@ -122,7 +122,7 @@ public class CreateCuboid  extends ClusterPhyTableFunction {
 		ClusterCursor cc = table.cursor(null, null, null, null, null, null, 0, null, ctx);
 		ICursor cursor = new MemoryCursor((Sequence) cc.groups(exps, names, newExps, newNames, null, ctx));
 		
-		//浽һ
+		//保存到另一个组表
 		File file = fo.getLocalFile().file();
 		String colNames[] = new String[fcount];
 		int sbytes[] = new int[fcount];
@@ -140,7 +140,7 @@ public class CreateCuboid  extends ClusterPhyTableFunction {
 					expNames, newExpNames);
 			table.save();
 			table.close();
-			table = new Cuboid(file, ctx);//´
+			table = new Cuboid(file, ctx);//重新打开
 			table.checkPassword("cuboid");
 			table.append(cursor);
 			table.writeHeader();
@@ -15,8 +15,8 @@ import com.scudata.parallel.ClusterCursor;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ⱥα
- * T.cursor(x:C,;w;k:n)
+ * 创建集群组表游标
+ * T.cursor(x:C,…;w;k:n)
  * @author RunQian
  *
  */
@@ -26,15 +26,15 @@ public class CreateCursor extends ClusterPhyTableFunction {
 			return table.cursor(null, null, null, null, null, null, 0, option, ctx);
 		}
 		
-		IParam fieldParam = null; // ѡֶβ
-		Expression filter = null; // 
+		IParam fieldParam = null; // 选出字段参数
+		Expression filter = null; // 过滤条件
 		
-		// ֶκ͹ά
+		// 做关联的字段和关联的维表
 		String []fkNames = null;
 		Expression []codeExps = null;
 		String []opts = null;
 		
-		// ֶͬζ·α
+		// 产生同步分段多路游标
 		ClusterCursor mcs = null;
 		int segCount = 0;
 		
@@ -8,7 +8,7 @@ import com.scudata.expression.ClusterPhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ָݴӼȺɾ
+ * 把指定数据从集群组表中删除，组表需有主键
  * T.delete(P)
  * @author RunQian
  *
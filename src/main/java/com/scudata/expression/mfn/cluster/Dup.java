@@ -7,7 +7,7 @@ import com.scudata.expression.ClusterMemoryTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ѼȺڱƴɱڱ
+ * 把集群内表拼成本地内表
  * T.dup()
  * @author RunQian
  *
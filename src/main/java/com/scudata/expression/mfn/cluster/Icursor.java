@@ -9,8 +9,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * üȺйˣؼȺα
- * T.icursor(C,;w,I)
+ * 利用集群组表的索引对组表进行过滤，返回集群游标
+ * T.icursor(C,…;w,I)
  * @author RunQian
  *
  */
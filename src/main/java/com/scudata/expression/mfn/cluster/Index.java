@@ -9,8 +9,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ΪȺ
- * T.index(I:h,w;C,;F,;x)
+ * 为集群组表创建索引
+ * T.index(I:h,w;C,…;F,…;x)
  * @author RunQian
  *
  */
@@ -9,8 +9,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ѼȺɼȺڱ
- * T.memory(C,;w)
+ * 把集群组表读成集群内表
+ * T.memory(C,…;w)
  * @author RunQian
  *
  */
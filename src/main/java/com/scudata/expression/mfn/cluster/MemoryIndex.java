@@ -7,7 +7,7 @@ import com.scudata.expression.ClusterMemoryTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ΪȺڱ
+ * 为集群内表创建索引
  * T.index(n)
  * @author RunQian
  *
@@ -19,8 +19,8 @@ import com.scudata.parallel.ClusterMemoryTable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * A/csļ/άֵȡȺֶηسɼȺα꣬A/csTļ
- * T.new(A/cs,x:C,;w)
+ * 根据A/cs的键/维值取出集群组表的其它字段返回成集群游标，A/cs对T的键有序
+ * T.new(A/cs,x:C,…;w)
  * @author RunQian
  *
  */
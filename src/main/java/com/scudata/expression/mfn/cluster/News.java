@@ -18,8 +18,8 @@ import com.scudata.parallel.ClusterMemoryTable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * A/csļ/άֵȡTֶηسɼȺα꣬A/csTļ
- * T.news(A/cs,x:C,;w) TA/csǶһϵA/csļ¼TĶ¼
+ * 根据A/cs的键/维值取出T的其它字段返回成集群游标，A/cs对T的键有序
+ * T.news(A/cs,x:C,…;w) T与A/cs是多对一关系，A/cs的记录会关联T的多条记录
  * @author RunQian
  *
  */
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.ClusterFileFunction;
 
 /**
- * 򿪼Ⱥ
+ * 打开集群组表
  * f.open()
  * @author RunQian
  *
@@ -9,8 +9,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ⱥݻ߸ƼȺݵ¼Ⱥ
- * f.reset(f) f.reset(f;x)
+ * 整理集群组表的数据或者复制集群组表数据到新集群组表
+ * f.reset(f’) f.reset(f’;x)
  * @author RunQian
  *
  */
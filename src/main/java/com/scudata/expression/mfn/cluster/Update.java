@@ -8,7 +8,7 @@ import com.scudata.expression.ClusterPhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ¼Ⱥݣ¼ֵ룬ּ
+ * 更新集群组表数据，新键值则插入，保持键有序，组表需有主键
  * T.update(P)
  * @author RunQian
  *
@@ -12,7 +12,7 @@ import com.scudata.resources.EngineMessage;
 
 // 
 /**
- * Ѷ·αת·ٵĶ·α·α
+ * 把多路游标转成路数更少的多路游标或单路游标
  * mcs.cursor(n)
  * @author RunQian
  *
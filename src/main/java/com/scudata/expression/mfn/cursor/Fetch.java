@@ -10,7 +10,7 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αжȡ
+ * 从游标中读取数据
  * cs.fetch(n) cs.fetch(;x)
  * @author RunQian
  *
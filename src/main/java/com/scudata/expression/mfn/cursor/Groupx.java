@@ -17,8 +17,8 @@ import com.scudata.util.CursorUtil;
 import com.scudata.util.EnvUtil;
 
 /**
- * ۼƷʽαܣسα
- * cs.groupx(x:F,;y:G;n)
+ * 采用累计方式对游标进行外存分组汇总，返回成游标
+ * cs.groupx(x:F,…;y:G…;n)
  * @author RunQian
  *
  */
@@ -29,8 +29,8 @@ public class Groupx extends CursorFunction {
 			throw new RQException("groupx" + mm.getMessage("function.missingParam"));
 		}
 		
-		ArrayList<Object> gathers = new ArrayList<Object>(); // ͳƾۺϺ
-		ArrayList<Integer> poss = new ArrayList<Integer>(); // ʽӦۺϺбĵڼۺϺ
+		ArrayList<Object> gathers = new ArrayList<Object>(); // 统计聚合函数
+		ArrayList<Integer> poss = new ArrayList<Integer>(); // 分组表达式，对应聚合函数列表的第几个聚合函数
 
 		IParam sub0;
 		IParam sub1 = null;
@@ -93,10 +93,10 @@ public class Groupx extends CursorFunction {
 			throw new RQException("groupx" + mm.getMessage("function.invalidParam"));
 		}
 		
-		// ʽ;ۺϱʽĳ
+		// 分组表达式和聚合表达式的长度
 		int	nlen = null == newExps ? 0 : newExps.length;
 		int elen = null == exps ? 0 : exps.length;
-		// ʽеľۺϺ
+		// 解析表达式中的聚合函数
 		for (int i = 0; i < nlen; i++) {
 			int size = gathers.size();
 			gathers.addAll(Expression.getSpecFunc(newExps[i], Gather.class));
@@ -105,7 +105,7 @@ public class Groupx extends CursorFunction {
 			poss.add(gathers.size());
 		}
 		
-		// мۺϱʽ
+		// 生成中间聚合表达式
 		Expression[] tempExps = new Expression[gathers.size()];
 		String[] tempNames	= newNames;
 		for (int i = 0; i < tempExps.length; i++) {
@@ -118,14 +118,14 @@ public class Groupx extends CursorFunction {
 			}
 		}
 		
-		// new αıʽ
+		// new 游标的表达式
 		Expression[] senExps = new Expression[elen+nlen];
-		String strExp = null;	// ϱʽַ
-		int index = 0;	// ϱʽ
-		New op = null;	// ӵnew
+		String strExp = null;	// 老表达式字符串。
+		int index = 0;	// 老表达式的索引
+		New op = null;	// 附加的new操作符
 		
-		// ϱʽתΪµnewͳбʽ
-		boolean exCal	= false;	// жǷ־ۺϱʽ
+		// 根据老表达式，转换为新的new的统计列表达式
+		boolean exCal	= false;	// 判断是否拆分聚合表达式
 		if (null != newExps) {
 			strExp = newExps[index].toString();
 		}
@@ -143,21 +143,21 @@ public class Groupx extends CursorFunction {
 			}
 		}
 		
-		// @bȥֶ
+		// @b：结果集去掉分组字段
 		boolean bopt = option != null && option.indexOf('b') != -1;
 		
 		if (exCal) {
 			tempNames = null;
-			// дʽ
+			// 填写分组表达式
 			for (int i = 1; i <= elen; i++) {
 				String funStr = "#" + i;
 				senExps[i-1] = new Expression(cs, ctx, funStr);
 			}
 			
-			if (senExps.length > 0)	// һʽ
+			if (senExps.length > 0)	// 最后一个表达式的生成
 				senExps[index+elen] = new Expression(cs, ctx, strExp);
 			
-			// ͳһ
+			// 生成统一的列名
 			String[] senNames	= new String[names.length + newNames.length];
 			for (int i = 0; i < names.length; i++) {
 				senNames[i] = names[i];
@@ -169,7 +169,7 @@ public class Groupx extends CursorFunction {
 					senNames[i+names.length] = newNames[i];
 			}
 			
-			// new
+			// 生成new操作符
 			if (bopt) {
 				Expression []alterExps = new Expression[nlen];
 				String []alterNames = new String[nlen];
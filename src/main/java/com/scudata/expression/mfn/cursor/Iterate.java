@@ -9,7 +9,7 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αִе㣬յ
+ * 对游标数据执行迭代运算，返回最终迭代结果
  * cs.iterate(x,a,c)
  * @author RunQian
  *
@@ -21,8 +21,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αлӣһЩֶα귵
- * cs.joinx(C:,f:K:,x:F,;;;n)
+ * 把游标与排列或者外存表做连接，复制一些字段生成新游标返回
+ * cs.joinx(C:…,f:K:…,x:F,…;…;…;n)
  * @author RunQian
  *
  */
@@ -153,7 +153,7 @@ public class Joinx extends CursorFunction {
 	}
 	
 	/**
-	 * άתα
+	 * 把维表对象转换成游标
 	 * @param obj
 	 * @return
 	 */
@@ -171,7 +171,7 @@ public class Joinx extends CursorFunction {
 	}
 
 	/**
-	 * joinֶκ±ʽȡҪֶ
+	 * 从join字段和新表达式中提取需要的字段
 	 * @param dataExps
 	 * @param newExps
 	 * @param ctx
@@ -196,7 +196,7 @@ public class Joinx extends CursorFunction {
 		int count = codes.length;
 		SyncReader[] readers = new SyncReader[count];
 		for (int i = 0; i < count; i++) {
-			String[] fields = makeFields(dataExps[i], newExps[i], ctx);//õάֶ
+			String[] fields = makeFields(dataExps[i], newExps[i], ctx);//得到维表字段
 			
 			if (codes[i] instanceof ColPhyTable) {
 				readers[i] = new SyncReader((ColPhyTable)codes[i], fields, capacity);
@@ -7,6 +7,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
 import com.scudata.dw.MemoryTable;
 import com.scudata.dw.PhyTable;
+import com.scudata.dw.compress.ArrayColumnList;
 import com.scudata.expression.CursorFunction;
 import com.scudata.expression.IParam;
 import com.scudata.parallel.ClusterCursor;
@@ -15,8 +16,9 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CursorUtil;
 
 /**
- * αתڱ
- * cs.memory(K,)
+ * 把游标转成内表
+ * cs.memory(K,…)
+ * @z 压缩内表，@v 列存内表，每个字段存成一个基本类型数组
  * @author RunQian
  *
  */
@@ -69,6 +71,22 @@ public class Memory extends CursorFunction {
 			return table;
 		}
 		
+		if (option != null && option.indexOf('v') != -1) {
+			// 列存内表，每个字段存成一个基本类型数组
+			MemoryTable table = new MemoryTable(new ArrayColumnList(cursor));
+			if (keys != null) {
+				table.setPrimary(keys);
+				table.createIndexTable(null);
+			}
+			
+			if (partition != null) {
+				table.setDistribute(distribute);
+				table.setPart(partition);
+			}
+			
+			return table;
+		}
+		
 		seq = cursor.fetch();
 		Table table;
 		
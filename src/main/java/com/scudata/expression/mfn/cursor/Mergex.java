@@ -12,8 +12,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CursorUtil;
 
 /**
- * Ѷ·α갴ָʽ鲢ɵ·α꣬ÿһ·α궼ʽ
- * mcs.mergex(xi,)
+ * 把多路游标按指定表达式归并成单路游标，每一路游标都按表达式有序
+ * mcs.mergex(xi,…)
  * @author RunQian
  *
  */
@@ -31,7 +31,7 @@ public class Mergex extends CursorFunction {
 
 		Expression []exps = null;
 		if (param == null) {
-		} else if (param.isLeaf()) { // ֻһ
+		} else if (param.isLeaf()) { // 只有一个参数
 			exps = new Expression[]{ param.getLeafExpression() };
 		} else if (param.getType() == IParam.Comma) { // ,
 			int size = param.getSubSize();
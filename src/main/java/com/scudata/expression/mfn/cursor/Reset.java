@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.CursorFunction;
 
 /**
- * α굽ͷ
+ * 重置游标到数据头部
  * cs.reset()
  * @author RunQian
  *
@@ -9,7 +9,7 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ָݣʡУʵ
+ * 跳过指定条数的数据，省略则跳过所有，返回实际跳过的条数
  * cs.skip(n)
  * @author RunQian
  *
@@ -9,8 +9,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * α
- * cs.sortx(x;n)
+ * 对游标进行外存排序
+ * cs.sortx(x…;n)
  * @author RunQian
  *
  */
@@ -63,7 +63,7 @@ public class Sortx extends CursorFunction {
 		}
 
 		Expression []exps;
-		if (sortParam.isLeaf()) { // ֻһ
+		if (sortParam.isLeaf()) { // 只有一个参数
 			exps = new Expression[]{ sortParam.getLeafExpression() };
 		} else if (sortParam.getType() == IParam.Comma) { // ,
 			int size = sortParam.getSubSize();
@@ -8,8 +8,8 @@ import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܣֵ
- * cs.total(y,) ֻһyʱصֵ
+ * 针对游标数据做汇总，返回值序列
+ * cs.total(y,…) 只有一个y时返回单值
  * @author RunQian
  *
  */
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.DBFunction;
 
 /**
- * ύݿ
+ * 提交数据库更新
  * db.commit()
  * @author RunQian
  *
@@ -3,14 +3,17 @@ package com.scudata.expression.mfn.db;
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
 import com.scudata.dm.Context;
+import com.scudata.dm.Env;
 import com.scudata.dm.cursor.DBCursor;
 import com.scudata.expression.DBFunction;
 import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ݿѯα
- * db.cursor(sql,)
+ * 创建数据库查询游标
+ * db.cursor(sql,…)
+ * db.cursor(sql,…;k,n) 按字段k的值域拆成n段，或者k为条件串序列时每个条件一段，
+ * 每段用单独的连接并行取数，返回多路游标，n省略时为配置的游标并行数
  * @author RunQian
  *
  */
@@ -21,11 +24,54 @@ public class CreateCursor extends DBFunction {
 			throw new RQException("cursor" + mm.getMessage("function.missingParam"));
 		}
 
+		IParam param = this.param;
+		Object key = null;
+		int pathCount = 0;
+		if (param.getType() == IParam.Semicolon) {
+			// db.cursor(sql,…;k,n)，按k分段多路取数
+			if (param.getSubSize() != 2 || param.getSub(0) == null || param.getSub(1) == null) {
+				MessageManager mm = EngineMessage.get();
+				throw new RQException("cursor" + mm.getMessage("function.invalidParam"));
+			}
+
+			IParam segParam = param.getSub(1);
+			param = param.getSub(0);
+			IParam keyParam = segParam;
+			if (segParam.getType() == IParam.Comma) {
+				if (segParam.getSubSize() != 2) {
+					MessageManager mm = EngineMessage.get();
+					throw new RQException("cursor" + mm.getMessage("function.invalidParam"));
+				}
+
+				keyParam = segParam.getSub(0);
+				IParam countParam = segParam.getSub(1);
+				if (countParam != null) {
+					Object obj = countParam.getLeafExpression().calculate(ctx);
+					if (!(obj instanceof Number)) {
+						MessageManager mm = EngineMessage.get();
+						throw new RQException("cursor" + mm.getMessage("function.paramTypeError"));
+					}
+
+					pathCount = ((Number)obj).intValue();
+				}
+			}
+
+			if (keyParam == null || !keyParam.isLeaf()) {
+				MessageManager mm = EngineMessage.get();
+				throw new RQException("cursor" + mm.getMessage("function.invalidParam"));
+			}
+
+			key = keyParam.getLeafExpression().calculate(ctx);
+			if (pathCount < 1) {
+				pathCount = Env.getCursorParallelNum();
+			}
+		}
+
 		char type = param.getType();
 		String strSql;
 		Object []sqlParams = null;
 		byte []types = null;
-		if (type == IParam.Normal) { // ûв
+		if (type == IParam.Normal) { // 没有参数
 			Object obj = param.getLeafExpression().calculate(ctx);
 			if (!(obj instanceof String)) {
 				MessageManager mm = EngineMessage.get();
@@ -54,7 +100,7 @@ public class CreateCursor extends DBFunction {
 				IParam sub = param.getSub(i + 1);
 				if (sub == null) continue;
 
-				if (sub.isLeaf()) { // ֻвûָ
+				if (sub.isLeaf()) { // 只有参数没有指定类型
 					sqlParams[i] = sub.getLeafExpression().calculate(ctx);
 				} else {
 					IParam subi0 = sub.getSub(0);
@@ -76,6 +122,10 @@ public class CreateCursor extends DBFunction {
 			throw new RQException("cursor" + mm.getMessage("function.invalidParam"));
 		}
 
-		return new DBCursor(strSql, sqlParams, types, db, option, ctx);
+		if (key != null) {
+			return DBCursor.createMultipathCursor(strSql, sqlParams, types, db, option, key, pathCount, ctx);
+		} else {
+			return new DBCursor(strSql, sqlParams, types, db, option, ctx);
+		}
 	}
 }
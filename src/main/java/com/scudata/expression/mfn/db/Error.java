@@ -5,7 +5,7 @@ import com.scudata.expression.DBFunction;
 
 // 
 /**
- * ȡһݿִеĴ룬0ʾ޴
+ * 取上一条数据库语句执行的错误代码，0表示无错
  * db.error()
  * @author RunQian
  *
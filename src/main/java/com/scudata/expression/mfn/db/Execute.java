@@ -11,8 +11,9 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ִݿ
+ * 执行数据库语句
  * db.execute(sql,param,...) db.execute(A,sql,param,...)
+ * db.execute(cs,sql,param,...;n) 读游标和执行sql流水线进行，用n个连接并行执行
  * @author RunQian
  *
  */
@@ -21,7 +22,7 @@ public class Execute extends DBFunction {
 		if (param == null) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("execute" + mm.getMessage("function.missingParam"));
-		} else if (param.isLeaf()) { // ûв
+		} else if (param.isLeaf()) { // 没有参数
 			Object obj = param.getLeafExpression().calculate(ctx);
 			if (!(obj instanceof String)) {
 				MessageManager mm = EngineMessage.get();
@@ -29,7 +30,29 @@ public class Execute extends DBFunction {
 			}
 
 			return db.execute((String)obj, null, null, option);
-		} else if (param.getType() != IParam.Comma) {
+		}
+
+		IParam param = this.param;
+		int conCount = 1;
+		if (param.getType() == IParam.Semicolon) {
+			// db.execute(A,sql,param,…;n)，用n个连接并行写
+			IParam countParam = param.getSubSize() == 2 ? param.getSub(1) : null;
+			param = param.getSub(0);
+			if (countParam == null || !countParam.isLeaf() || param == null || param.getType() != IParam.Comma) {
+				MessageManager mm = EngineMessage.get();
+				throw new RQException("execute" + mm.getMessage("function.invalidParam"));
+			}
+
+			Object obj = countParam.getLeafExpression().calculate(ctx);
+			if (!(obj instanceof Number)) {
+				MessageManager mm = EngineMessage.get();
+				throw new RQException("execute" + mm.getMessage("function.paramTypeError"));
+			}
+
+			conCount = ((Number)obj).intValue();
+		}
+
+		if (param.getType() != IParam.Comma) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("execute" + mm.getMessage("function.invalidParam"));
 		}
@@ -50,7 +73,7 @@ public class Execute extends DBFunction {
 				IParam sub = param.getSub(i + 1);
 				if (sub == null) continue;
 
-				if (sub.isLeaf()) { // ֻвûָ
+				if (sub.isLeaf()) { // 只有参数没有指定类型
 					sqlParams[i] = sub.getLeafExpression().calculate(ctx);
 				} else {
 					IParam subi0 = sub.getSub(0);
@@ -70,7 +93,7 @@ public class Execute extends DBFunction {
 
 			return db.execute(strSql, sqlParams, types, option);
 		} else if (srcObj instanceof Sequence || srcObj instanceof ICursor) {
-			// еÿԪִsql䣬sqlԪ
+			// 针对序列的每个元素执行sql语句，sql参数由序列元素算出
 			IParam sub1 = param.getSub(1);
 			if (sub1 == null || !sub1.isLeaf()) {
 				MessageManager mm = EngineMessage.get();
@@ -92,7 +115,7 @@ public class Execute extends DBFunction {
 				IParam sub = param.getSub(i + 2);
 				if (sub == null)continue;
 
-				if (sub.isLeaf()) { // ֻвûָ
+				if (sub.isLeaf()) { // 只有参数没有指定类型
 					sqlParams[i] = sub.getLeafExpression();
 				} else {
 					IParam subi0 = sub.getSub(0);
@@ -113,7 +136,7 @@ public class Execute extends DBFunction {
 			if (srcObj instanceof Sequence) {
 				db.execute((Sequence)srcObj, strSql, sqlParams, types, option, ctx);
 			} else {
-				db.execute((ICursor)srcObj, strSql, sqlParams, types, option, ctx);
+				db.execute((ICursor)srcObj, strSql, sqlParams, types, option, conCount, ctx);
 			}
 			
 			return null;
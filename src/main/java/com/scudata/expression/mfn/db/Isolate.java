@@ -4,8 +4,8 @@ import com.scudata.dm.Context;
 import com.scudata.expression.DBFunction;
 
 /**
- * ѡӵ𲢷ԭ𣨶ӦѡַѡJDBCȱʡ
- * db.isolate() ѡ@ncursֱӦnone,commit,uncommit,repeatable,serializable
+ * 根据选项设置连接的事务孤立级别并返回原级别（对应的选项字符），无选项用JDBC缺省
+ * db.isolate() 选项@ncurs分别对应none,commit,uncommit,repeatable,serializable
  * @author RunQian
  *
  */
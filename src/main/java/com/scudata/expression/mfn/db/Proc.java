@@ -9,8 +9,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.DatabaseUtil;
 
 /**
- * ô洢̼㣬صĽɲеv
- * db.proc(sql,a:t:m:v,)
+ * 调用存储过程计算，返回的结果集由参数中的v带出
+ * db.proc(sql,a:t:m:v,…)
  * @author RunQian
  *
  */
@@ -28,7 +28,7 @@ public class Proc extends DBFunction {
 		String[] outParams = null;
 
 		char type = param.getType();
-		if (type == IParam.Normal) { // ûв
+		if (type == IParam.Normal) { // 没有参数
 			Object obj = param.getLeafExpression().calculate(ctx);
 			if (!(obj instanceof String)) {
 				MessageManager mm = EngineMessage.get();
@@ -37,7 +37,7 @@ public class Proc extends DBFunction {
 
 			strSql = (String)obj;
 		} else if (type == IParam.Comma) {
-			IParam sub0 = param.getSub(0); // sqlʽ
+			IParam sub0 = param.getSub(0); // sql表达式
 			if (sub0 == null || !sub0.isLeaf()) {
 				MessageManager mm = EngineMessage.get();
 				throw new RQException("proc" + mm.getMessage("function.invalidParam"));
@@ -51,7 +51,7 @@ public class Proc extends DBFunction {
 
 			strSql = (String)obj;
 
-			int paramSize = param.getSubSize() - 1; // 
+			int paramSize = param.getSubSize() - 1; // 参数个数
 			sqlParams = new Object[paramSize];
 			types = new byte[paramSize];
 			modes = new byte[paramSize];
@@ -62,7 +62,7 @@ public class Proc extends DBFunction {
 				IParam sub = param.getSub(i + 1);
 				if (sub == null) continue;
 
-				if (sub.isLeaf()) { // ֻвûָ
+				if (sub.isLeaf()) { // 只有参数没有指定类型
 					sqlParams[i] = sub.getLeafExpression().calculate(ctx);
 				} else {
 					int size = sub.getSubSize();
@@ -71,8 +71,8 @@ public class Proc extends DBFunction {
 						throw new RQException("proc" + mm.getMessage("function.invalidParam"));
 					}
 
-					IParam subi0 = sub.getSub(0); // ֵ
-					IParam subi1 = sub.getSub(1); // 
+					IParam subi0 = sub.getSub(0); // 参数值
+					IParam subi1 = sub.getSub(1); // 参数类型
 					if (subi0 != null) sqlParams[i] = subi0.getLeafExpression().calculate(ctx);
 					if (subi1 != null) {
 						Object tmp = subi1.getLeafExpression().calculate(ctx);
@@ -85,7 +85,7 @@ public class Proc extends DBFunction {
 					}
 
 					if (size > 2) {
-						IParam subi2 = sub.getSub(2); // ģʽ
+						IParam subi2 = sub.getSub(2); // 输入输出模式
 						if (subi2 != null) {
 							Object tmp = subi2.getLeafExpression().calculate(ctx);
 							if (!(tmp instanceof String)) {
@@ -93,7 +93,7 @@ public class Proc extends DBFunction {
 								throw new RQException("proc" + mm.getMessage("function.paramTypeError"));
 							}
 
-							// ĬΪ
+							// 默认为输入参数
 							String modeStr = (String)tmp;
 							if (modeStr.indexOf('i') != -1) {
 								if (modeStr.indexOf('o') != -1) {
@@ -108,7 +108,7 @@ public class Proc extends DBFunction {
 					}
 
 					if (size > 3) {
-						IParam subi3 = sub.getSub(3); // 
+						IParam subi3 = sub.getSub(3); // 输出参数名
 						if (subi3 != null) {
 							outParams[i] = subi3.getLeafExpression().getIdentifierName();
 						}
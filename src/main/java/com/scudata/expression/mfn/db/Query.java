@@ -10,8 +10,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ִݿѯ䣬زѯɵ
- * db.query(sql,param:type,) db.query(A,sql,param:type,)
+ * 执行数据库查询语句，返回查询结果所组成的序表
+ * db.query(sql,param:type,…) db.query(A,sql,param:type,…)
  * @author RunQian
  *
  */
@@ -20,7 +20,7 @@ public class Query extends DBFunction {
 		if (param == null) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("query" + mm.getMessage("function.missingParam"));
-		} else if (param.getType() == IParam.Normal) { // ûв
+		} else if (param.getType() == IParam.Normal) { // 没有参数
 			Object obj = param.getLeafExpression().calculate(ctx);
 			if (!(obj instanceof String)) {
 				MessageManager mm = EngineMessage.get();
@@ -41,7 +41,7 @@ public class Query extends DBFunction {
 
 			Object obj = sub0.getLeafExpression().calculate(ctx);
 			if (obj instanceof Sequence) {
-				// еÿԪִsql䣬sqlԪ
+				// 针对序列的每个元素执行sql语句，sql参数由序列元素算出
 				Sequence srcSeries = (Sequence)obj;
 				IParam sub1 = param.getSub(1);
 				if (sub1 == null || !sub1.isLeaf()) {
@@ -63,7 +63,7 @@ public class Query extends DBFunction {
 					IParam sub = param.getSub(i + 2);
 					if (sub == null)continue;
 
-					if (sub.isLeaf()) { // ֻвûָ
+					if (sub.isLeaf()) { // 只有参数没有指定类型
 						sqlParams[i] = sub.getLeafExpression();
 					} else {
 						IParam subi0 = sub.getSub(0);
@@ -91,7 +91,7 @@ public class Query extends DBFunction {
 					IParam sub = param.getSub(i + 1);
 					if (sub == null) continue;
 
-					if (sub.isLeaf()) { // ֻвûָ
+					if (sub.isLeaf()) { // 只有参数没有指定类型
 						sqlParams[i] = sub.getLeafExpression().calculate(ctx);
 					} else {
 						IParam subi0 = sub.getSub(0);
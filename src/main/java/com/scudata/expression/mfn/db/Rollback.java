@@ -7,7 +7,7 @@ import com.scudata.expression.DBFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * عݿ⵽ָع㣬޲ǻعȫµ
+ * 回滚数据库到指定回滚点，无参数是回滚全部更新点
  * db.rollback(spn)
  * @author RunQian
  *
@@ -7,7 +7,7 @@ import com.scudata.expression.DBFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ΪspnĻع㣬ֲʡҲظ
+ * 设置名为spn的回滚点，名字不能省略且不能重复
  * db.savepoint(spn)
  * @author RunQian
  *
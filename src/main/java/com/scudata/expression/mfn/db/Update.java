@@ -12,8 +12,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ִݿ
- * db.update(A:A',tbl,F:x,;P,)
+ * 执行数据库更新语句
+ * db.update(A:A',tbl,F:x,…;P,…)
  * @author RunQian
  *
  */
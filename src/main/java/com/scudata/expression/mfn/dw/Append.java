@@ -11,7 +11,7 @@ import com.scudata.expression.PhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ׷αݵ
+ * 追加游标数据到组表中
  * T.append(cs)
  * @author RunQian
  *
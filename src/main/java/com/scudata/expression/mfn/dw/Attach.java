@@ -11,8 +11,8 @@ import com.scudata.expression.PhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡΪӸ
- * T.attach(T,C)
+ * 取组表附表或者为组表增加附表
+ * T.attach(T’,C…)
  * @author RunQian
  *
  */
@@ -14,8 +14,8 @@ import com.scudata.expression.PhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ԥ
- * T.cgroups(Fi,;y:Gi,;w)
+ * 利用预汇总立方体计算分组汇总
+ * T.cgroups(Fi,…;y:Gi,…;w)
  * @author RunQian
  *
  */
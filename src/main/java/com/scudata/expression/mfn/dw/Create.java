@@ -15,7 +15,7 @@ import com.scudata.expression.PhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ļ,Tݽṹµļf
+ * 创建组表文件,用T的数据结构创建新的组表文件f
  * T.create(f;x)
  * @author RunQian
  *
@@ -22,8 +22,8 @@ import com.scudata.expression.PhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ΪԤ
- * T.cuboid(C,Fi,;y:Gi,)
+ * 为组表生成预汇总立方体
+ * T.cuboid(C,Fi,…;y:Gi,…)
  * @author RunQian
  *
  */
@@ -113,7 +113,7 @@ public class CreateCuboid extends PhyTableFunction {
 			}
 		}
 		
-		//Ϊcuboid
+		//为cuboid命名
 		String dir = srcTable.getGroupTable().getFile().getAbsolutePath() + "_";
 		FileObject fo = new FileObject(dir + srcTable.getTableName() + Cuboid.CUBE_PREFIX + C);
 		if (fo.isExists())
@@ -135,7 +135,7 @@ public class CreateCuboid extends PhyTableFunction {
 		if (newExps != null) fcount += newExps.length;
 		ICursor cursor = new MemoryCursor(Cuboid.cgroups(sub0, sub1, srcTable, null, false, 0, null, ctx));
 		
-		//浽һ
+		//保存到另一个组表
 		File file = fo.getLocalFile().file();
 		String colNames[] = new String[fcount];
 		int sbytes[] = new int[fcount];
@@ -153,7 +153,7 @@ public class CreateCuboid extends PhyTableFunction {
 					pi0.getExpressionStrs1(), pi1.getExpressionStrs1());
 			table.save();
 			table.close();
-			table = new Cuboid(file, ctx);//´
+			table = new Cuboid(file, ctx);//重新打开
 			table.checkPassword("cuboid");
 			
 			Sequence data = cursor.peek(1);		
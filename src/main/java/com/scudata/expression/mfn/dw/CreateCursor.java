@@ -22,8 +22,8 @@ import com.scudata.expression.operator.And;
 import com.scudata.resources.EngineMessage;
 
 /**
- * α
- * T.cursor(x:C,;w;k:n)
+ * 创建组表游标
+ * T.cursor(x:C,…;w;k:n)
  * @author RunQian
  *
  */
@@ -104,22 +104,22 @@ public class CreateCursor extends PhyTableFunction {
 	}
 	
 	public static ICursor createCursor(IPhyTable table, IParam param, String opt, Context ctx) {
-		// Ƿ·α
+		// 是否产生多路游标
 		boolean isMultiThread = opt != null && opt.indexOf('m') != -1;
 		
 		if (param == null && !isMultiThread) {
 			return table.cursor();
 		}
 		
-		IParam fieldParam = null; // ѡֶβ
-		Expression filter = null; // 
+		IParam fieldParam = null; // 选出字段参数
+		Expression filter = null; // 过滤条件
 		
-		// ֶκ͹ά
+		// 做关联的字段和关联的维表
 		String []fkNames = null;
 		Sequence []codes = null;
 		String []opts = null;
 		
-		MultipathCursors mcs = null; // ֶͬα
+		MultipathCursors mcs = null; // 同步分段游标
 		int segSeq = 0;
 		int segCount = 0;
 		if (isMultiThread) {
@@ -189,7 +189,7 @@ public class CreateCursor extends PhyTableFunction {
 					if (obj instanceof MultipathCursors) {
 						mcs = (MultipathCursors)obj;
 					} else if (obj instanceof ICursor) {
-						// cursor@mΪջĿС2ܲ᷵ض·α
+						// cursor@m如果结果集为空或者满足条件的块小于2可能不会返回多路游标
 						isMultiThread = false;
 					} else {
 						if (!isMultiThread) {
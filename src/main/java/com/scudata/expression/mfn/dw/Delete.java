@@ -10,7 +10,7 @@ import com.scudata.expression.PhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ָݴɾ
+ * 把指定数据从组表中删除，组表需有主键
  * T.delete(P)
  * @author RunQian
  *
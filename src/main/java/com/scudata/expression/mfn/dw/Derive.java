@@ -21,8 +21,8 @@ import com.scudata.expression.operator.And;
 import com.scudata.resources.EngineMessage;
 
 /**
- * A/csļ/άֵȡTֶηأA/csTļ
- * T.derive(A/cs,x:C,;w)
+ * 根据A/cs的键/维值取出T的其它字段返回，A/cs对T的键有序
+ * T.derive(A/cs,x:C,…;w)
  * @author RunQian
  *
  */
@@ -175,7 +175,7 @@ public class Derive extends PhyTableFunction {
 			for (int i = 0; i < pathCount; ++i) {
 				Expression w = null;
 				if (filter != null) {
-					w = filter.newExpression(ctx); // ֶβжȡʱҪƱʽͬһʽֲ֧
+					w = filter.newExpression(ctx); // 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 				}
 				ICursor cs = new JoinCursor(table, exps, names, cursors[i], csNames, 0x10, option, w, fkNames, codes, opts, ctx);
 				cursors[i] = cs;
@@ -11,7 +11,7 @@ import com.scudata.expression.PhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ֵҵļ¼
+ * 用主键值找到组表的记录
  * T.find(k;x:C,..)
  * @author RunQian
  *
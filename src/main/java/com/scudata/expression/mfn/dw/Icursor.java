@@ -14,8 +14,8 @@ import com.scudata.expression.fn.Between;
 import com.scudata.resources.EngineMessage;
 
 /**
- * й
- * T.icursor(C,;w,I)
+ * 利用组表的索引对组表进行过滤
+ * T.icursor(C,…;w,I)
  * @author RunQian
  *
  */
@@ -101,7 +101,7 @@ public class Icursor extends PhyTableFunction {
 			w = new Expression("true");
 		}
 		
-		//betweenʽ
+		//处理between表达式
 		Node home = w.getHome();
 		if (home instanceof Between) {
 			Between bt = (Between) home;
@@ -6,8 +6,8 @@ import com.scudata.dw.IPhyTable;
 import com.scudata.expression.PhyTableFunction;
 
 /**
- * 
- * T.import(x:C,;w;k:n)
+ * 读入组表数据
+ * T.import(x:C,…;w;k:n)
  * @author RunQian
  *
  */
@@ -11,8 +11,8 @@ import com.scudata.expression.PhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ϊ
- * T.index(I:h,w;C,;F,;x)
+ * 为组表创建索引
+ * T.index(I:h,w;C,…;F,…;x)
  * @author RunQian
  *
  */
@@ -9,8 +9,8 @@ import com.scudata.dw.PhyTable;
 import com.scudata.expression.PhyTableFunction;
 
 /**
- * ڱ
- * T.memory(C,;w)
+ * 把组表读成内表
+ * T.memory(C,…;w)
  * @author RunQian
  *
  */
@@ -23,8 +23,8 @@ import com.scudata.expression.operator.And;
 import com.scudata.resources.EngineMessage;
 
 /**
- * A/csļ/άֵȡTֶηأA/csTļ
- * T.new(A/cs,x:C,;w)
+ * 根据A/cs的键/维值取出T的其它字段返回，A/cs对T的键有序
+ * T.new(A/cs,x:C,…;w)
  * @author RunQian
  *
  */
@@ -129,10 +129,10 @@ public class New extends PhyTableFunction {
 	}
 
 	/**
-	 * ȡnewnewsĵһ (A/cs:K)
+	 * 提取new、news的第一个参数 (A/cs:K)
 	 * @param param
 	 * @param ctx
-	 * @return Object[] {תcursor, A/cs, K}
+	 * @return Object[] {转换后的cursor, A/cs对象, K数组}
 	 */
 	public static Object[] parse1stParam(IParam param, Context ctx) {
 		Object[] objs = new Object[3];
@@ -183,7 +183,7 @@ public class New extends PhyTableFunction {
 			for (int i = 0; i < pathCount; ++i) {
 				Expression w = null;
 				if (filter != null) {
-					w = filter.newExpression(ctx); // ֶβжȡʱҪƱʽͬһʽֲ֧
+					w = filter.newExpression(ctx); // 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 				}
 				Expression[] exps_ = Operation.dupExpressions(exps, ctx);
 				ICursor cs = cursors[i].attachNews(table, csNames, w, exps_, names, fkNames, codes, opts, option, type, ctx);
@@ -22,8 +22,8 @@ import com.scudata.expression.operator.And;
 import com.scudata.resources.EngineMessage;
 
 /**
- * A/csļ/άֵȡTֶηأA/csTļ
- * T.news(A/cs,x:C,;w) TA/csǶһϵA/csļ¼TĶ¼
+ * 根据A/cs的键/维值取出T的其它字段返回，A/cs对T的键有序
+ * T.news(A/cs,x:C,…;w) T与A/cs是多对一关系，A/cs的记录会关联T的多条记录
  * @author RunQian
  *
  */
@@ -187,7 +187,7 @@ public class News extends PhyTableFunction {
 			for (int i = 0; i < pathCount; ++i) {
 				Expression w = null;
 				if (filter != null) {
-					w = filter.newExpression(ctx); // ֶβжȡʱҪƱʽͬһʽֲ֧
+					w = filter.newExpression(ctx); // 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 				}
 				Expression[] exps_ = Operation.dupExpressions(exps, ctx);
 				ICursor cs = cursors[i].attachNews(table, csNames, w, exps_, names, fkNames, codes, opts, option, type, ctx);
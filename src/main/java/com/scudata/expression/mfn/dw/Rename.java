@@ -8,8 +8,8 @@ import com.scudata.expression.ParamInfo2;
 import com.scudata.expression.PhyTableFunction;
 
 /**
- * ޸ֶ
- * T.rename(F:F,)
+ * 修改组表的字段名
+ * T.rename(F:F’,…)
  * @author RunQian
  *
  */
@@ -12,7 +12,7 @@ import com.scudata.expression.PhyTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ݣ¼ֵ룬ּ
+ * 更新组表数据，新键值则插入，保持键有序，组表需有主键
  * T.update(P)
  * @author RunQian
  *
@@ -51,8 +51,8 @@ public class Update extends PhyTableFunction {
 			try {
 				ICursor cs = (ICursor)obj;
 				/**
-				 * αʱӼ¼,
-				 * Բܳ@i
+				 * 用游标更新时不能增加记录,
+				 * 所以不能出现@i
 				 */
 				if (opt != null && opt.indexOf('i') != -1) {
 					opt = opt.replace("i", "");
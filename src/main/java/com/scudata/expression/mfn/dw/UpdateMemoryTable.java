@@ -8,7 +8,7 @@ import com.scudata.expression.MemoryTableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ڱݣ¼ֵ룬ּ
+ * 更新内表数据，新键值则插入，保持键有序
  * T.update(P)
  * @author RunQian
  *
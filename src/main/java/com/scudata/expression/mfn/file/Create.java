@@ -17,8 +17,8 @@ import com.scudata.parallel.ClusterFile;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ļ
- * f.create(C,;x)
+ * 创建组表文件
+ * f.create(C,…;x)
  * @author RunQian
  *
  */
@@ -30,7 +30,7 @@ public class Create extends FileFunction {
 		}
 		
 		IParam colParam = param;
-		Expression distributeExp = null; // ֲʽ
+		Expression distributeExp = null; // 分布表达式
 		String distribute = null;
 		
 		if (param.getType() == IParam.Semicolon) {
@@ -71,7 +71,7 @@ public class Create extends FileFunction {
 		}
 
 		if (file.isRemoteFile()) {
-			// Զļ
+			// 远程文件
 			String host = file.getIP();
 			int port = file.getPort();
 			String fileName = file.getFileName();
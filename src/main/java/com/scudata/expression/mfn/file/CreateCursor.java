@@ -24,8 +24,8 @@ import com.scudata.resources.EngineMessage;
 
 
 /**
- * ļα꣬ļıļļ
- * f.cursor(Fi:type:fmt,;k:n,s)
+ * 创建文件游标，文件可以是文本文件、集文件
+ * f.cursor(Fi:type:fmt,…;k:n,s)
  * @author RunQian
  *
  */
@@ -38,7 +38,7 @@ public class CreateCursor extends FileFunction {
 		if (param == null) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("cursor" + mm.getMessage("function.missingParam"));
-		} else if (param.getType() == IParam.Normal) { // ûв
+		} else if (param.getType() == IParam.Normal) { // 没有参数
 			Object obj = param.getLeafExpression().calculate(ctx);
 			if (!(obj instanceof String)) {
 				MessageManager mm = EngineMessage.get();
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.FileFunction;
 
 /**
- * ȡļ޸ʱ
+ * 取文件最后修改日期时间
  * f.date()
  * @author RunQian
  *
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.FileFunction;
 
 /**
- * жļǷ
+ * 判断文件是否存在
  * f.exists()
  * @author RunQian
  *
@@ -19,8 +19,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * еıļļ
- * f.export(A,xi:Fi,;s)
+ * 导出排列到文本文件或集文件
+ * f.export(A,xi:Fi,…;s)
  * @author RunQian
  *
  */
@@ -104,7 +104,7 @@ public class Export extends FileFunction {
 	
 	private static void export(FileObject fo, Object src, Expression []exps, String []names, 
 			Expression sexp, String opt, Context ctx) {
-		// ׷дԴļѴڣдʱļɹԴļɾٰʱļԴļ
+		// 如果不是追加写并且源文件已存在，则先写入临时文件，成功后把源文件删除再把临时文件重命名成源文件
 		IFile ifile = fo.getFile();
 		if ((opt == null || opt.indexOf('a') == -1) && 
 			ifile instanceof LocalFile && ifile.size() > 0) {
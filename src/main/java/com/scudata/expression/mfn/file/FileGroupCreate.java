@@ -10,8 +10,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * 
- * f.create(C,;x)
+ * 创建复组表
+ * f.create(C,…;x)
  * @author RunQian
  *
  */
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.FileGroupFunction;
 
 /**
- * 򿪸
+ * 打开复组表
  * fg.open()
  * @author RunQian
  *
@@ -12,8 +12,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ݻ߸ݵһ
- * f.reset(f) f.reset(f;x)
+ * 整理复组表数据或者复制组表数据到另一个复组表
+ * f.reset(f’) f.reset(f’;x)
  * @author RunQian
  *
  */
@@ -23,8 +23,8 @@ public class FileGroupReset extends FileGroupFunction {
 			return fg.resetGroupTable(option, ctx);
 		}
 
-		Object obj = null; // ļļļ
-		String distribute = null; // ֲʽ
+		Object obj = null; // 新文件名、新文件对象或者新文件组
+		String distribute = null; // 分布表达式
 		if (param.isLeaf()) {
 			obj = param.getLeafExpression().calculate(ctx);
 		} else {
@@ -7,7 +7,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.expression.FileGroupFunction;
 
 /**
- * ļʧܣô˺ָ
+ * 如果更新组表文件失败，调用此函数恢复数据
  * f.rollback()
  * @author RunQian
  *
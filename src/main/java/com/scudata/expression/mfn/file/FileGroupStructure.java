@@ -7,7 +7,7 @@ import com.scudata.dw.PhyTableGroup;
 import com.scudata.expression.FileGroupFunction;
 
 /**
- * ļĽṹ
+ * 获得组表文件的结构
  * f.structure()
  * @author LiWei
  *
@@ -25,9 +25,9 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ӶԱʽļıļļвҼ¼
- * f.iselect(A,x;Fi,;s) xAеļ¼α
- * f.iselect(a:b,x;Fi,;s) x[a,b]ļ¼α
+ * 从对表达式有序的文件（文本文件或集文件）中查找记录
+ * f.iselect(A,x;Fi,…;s) 读出x在序列A中的记录构成游标
+ * f.iselect(a:b,x;Fi,…;s) 读出x在[a,b]区间的记录构成游标
  * @author RunQian
  *
  */
@@ -211,23 +211,23 @@ public class ISelect extends FileFunction {
 	}
 
 	/**
-	 * ݶԱݺͶԱȱʽļвҽcursor
+	 * 根据对比数据和对比表达式从文件中查找结果，并变成cursor输出
 	 * 
-	 * @param fo			ļ
-	 * @param fieldName		Աȱʽ
-	 * @param startVal		ʼֵ
-	 * @param endVal		ֵ
-	 * @param selFields		ɽֶ
+	 * @param fo			文件对象
+	 * @param fieldName		对比表达式
+	 * @param startVal		起始值
+	 * @param endVal		结束值
+	 * @param selFields		组成结果的字段
 	 * @param s				
-	 * @param opt			ȡļ
-	 * @param ctx			ı
-	 * @return				ؽcursor
+	 * @param opt			读取文件参数
+	 * @param ctx			上下文变量
+	 * @return				返回结果cursor
 	 */
 	private static ICursor search(FileObject fo, Expression exp, Object startVal,
 			 Object endVal, String []selFields, String s, String opt, Context ctx) {
 		boolean isCsv = false;
 		if (opt != null) {
-			// Ƕļɶļcursor
+			// 如果是二进制文件，生成二进制文件的cursor
 			if (opt.indexOf('b') != -1) {
 				BFileReader reader = new BFileReader(fo);
 				return reader.iselect(exp, startVal, endVal, selFields, ctx);
@@ -297,16 +297,16 @@ public class ISelect extends FileFunction {
 	}
 		
 	/**
-	 * ļУȡü¼ʽֵvaluesеļ¼
+	 * 从数据文件中，取得记录表达式的值，在values中的记录。
 	 * 
-	 * @param fo			ļ
-	 * @param exp			ʽ
-	 * @param values		οֵ
-	 * @param separator		foΪıļñΪָ.
-	 * @param opt			ļд
-	 * @param isMultiId		ǷID
+	 * @param fo			数据文件对象
+	 * @param exp			表达式
+	 * @param values		参考值
+	 * @param separator		若fo为文本文件，该变量为分隔符.
+	 * @param opt			文件读写参数
+	 * @param isMultiId		是否多ID
 	 * 
-	 * @return				ȡõļ¼ɵtable
+	 * @return				用取得的记录组成的table
 	 */
 	private static Table iselect_t(FileObject fo, Expression exp, Sequence values, 
 			byte[] separator, String opt, boolean isMultiId, Context ctx) {
@@ -399,7 +399,7 @@ public class ISelect extends FileFunction {
 					if (isMultiId && low>=high) break;
 					importer.seek(mid);
 					Object []objs = importer.readLine();
-					if (objs == null) { // β
+					if (objs == null) { // 到达结尾
 						high = mid - 1;
 					} else {
 						rec.setStart(0, objs);
@@ -484,7 +484,7 @@ public class ISelect extends FileFunction {
 			importer.seek(pos);			
 			Object []objs = importer.readLine();
 			pos = importer.getCurrentPosition()-2;
-			if (objs == null) { // β
+			if (objs == null) { // 到达结尾
 				return importer.getCurrentPosition();
 			}
 			rec.setStart(0, objs);
@@ -512,17 +512,17 @@ public class ISelect extends FileFunction {
 	}
 		
 	/**
-	 * һıļУλʽexpĽӽvalueļ¼λ
+	 * 在一个文本文件中，定位表达式exp的结果最接近value的记录的位置
 	 * 
-	 * @param fo		ıļļ
-	 * @param exp		ʽ
-	 * @param value		οֵ
-	 * @param separator	ıļķָ
-	 * @param opt		ļȡ
-	 * @param isStart	true	Сvalueļ¼
-	 * 					false	valueļ¼
+	 * @param fo		文本文件的文件对象
+	 * @param exp		表达式
+	 * @param value		参考值
+	 * @param separator	文本文件的分隔符
+	 * @param opt		文件读取参数
+	 * @param isStart	true	小于value的记录
+	 * 					false	大于value的记录
 	 * 
-	 * @return			ضӦλ
+	 * @return			返回对应结果的位置
 	 * 
 	 */
 	private static long iselect_t(FileObject fo, Expression exp, Object value, 
@@ -548,7 +548,7 @@ public class ISelect extends FileFunction {
 			byte []colTypes = new byte[line.length];
 			importer.setColTypes(colTypes, null);
 			
-			// ʼ¼
+			// 初始化记录变量
 			String[] fields = new String[line.length];
 			if (isTitle) {
 				low = importer.getCurrentPosition() - 2;
@@ -573,7 +573,7 @@ public class ISelect extends FileFunction {
 				
 				importer.seek(mid);
 				Object []objs = importer.readLine();
-				if (objs == null) { // β
+				if (objs == null) { // 到达结尾
 					high = mid - 1;
 				} else {
 					rec.setStart(0, objs);
@@ -8,14 +8,14 @@ import com.scudata.dm.cursor.ICursor;
 import com.scudata.expression.FileFunction;
 
 /**
- * ıļ߼ļ
- * f.import(Fi:type:fmt,;k:n,s)
+ * 从文本文件或者集文件导入数据
+ * f.import(Fi:type:fmt,…;k:n,s)
  * @author RunQian
  *
  */
 public class Import extends FileFunction {
 	public Object calculate(Context ctx) {
-		// file.cursor@xѡֹд@xļɾ
+		// file.cursor有@x选项，防止错写了@x把文件删了
 		String option = this.option;
 		if (option != null) {
 			option = option.replace('x', ' ');
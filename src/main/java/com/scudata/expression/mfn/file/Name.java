@@ -7,7 +7,7 @@ import com.scudata.dm.LocalFile;
 import com.scudata.expression.FileFunction;
 
 /**
- * ȡļĿ¼·Ŀ¼·ȫ·
+ * 取文件相对于主目录的路径名，不在主目录下返回全路径
  * f.name()
  * @author RunQian
  *
@@ -9,7 +9,7 @@ import com.scudata.expression.FileFunction;
 import com.scudata.parallel.ClusterFile;
 
 /**
- * 
+ * 打开组表
  * f.open()
  * @author RunQian
  *
@@ -17,7 +17,7 @@ import com.scudata.parallel.ClusterFile;
 public class Open extends FileFunction {
 	public Object calculate(Context ctx) {
 		if (file.isRemoteFile()) {
-			// Զļ
+			// 远程文件
 			String host = file.getIP();
 			int port = file.getPort();
 			String fileName = file.getFileName();
@@ -26,7 +26,7 @@ public class Open extends FileFunction {
 			ClusterFile cf = new ClusterFile(host, port, fileName, p, ctx);
 			return cf.openGroupTable(ctx);
 		} else {
-			// ļ
+			// 本地文件
 			File f = file.getLocalFile().file();
 			PhyTable table = ComTable.openBaseTable(f, ctx);
 			
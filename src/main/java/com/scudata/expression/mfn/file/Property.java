@@ -7,7 +7,7 @@ import com.scudata.expression.FileFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ļȡָԷأʡ򷵻γ
+ * 从属性文件中取出指定属性返回，省略则返回所有属性形成序表
  * f.property(p)
  * @author RunQian
  *
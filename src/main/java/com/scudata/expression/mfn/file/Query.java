@@ -12,8 +12,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * üSQLѯ
- * f.query(sql,param,)
+ * 调用简单SQL查询
+ * f.query(sql,param,…)
  * @author RunQian
  *
  */
@@ -22,7 +22,7 @@ public class Query extends FileFunction {
 		if (param == null) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException("query" + mm.getMessage("function.missingParam"));
-		} else if (param.getType() == IParam.Normal) { // ûв
+		} else if (param.getType() == IParam.Normal) { // 没有参数
 			Object obj = param.getLeafExpression().calculate(ctx);
 			if (!(obj instanceof String)) {
 				MessageManager mm = EngineMessage.get();
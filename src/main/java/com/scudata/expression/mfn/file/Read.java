@@ -8,7 +8,7 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡļݳַֽ
+ * 读取文件内容成字符串或者字节数组
  * f.read() f.read(b:e)
  * @author RunQian
  *
@@ -14,8 +14,8 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ݻ߸ݵ
- * f.reset(f) f.reset(f;x)
+ * 整理组表数据或者复制组表数据到新组表
+ * f.reset(f’) f.reset(f’;x)
  * @author RunQian
  *
  */
@@ -16,7 +16,7 @@ import com.scudata.expression.FileFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ļʧܣô˺ָ
+ * 如果更新组表文件失败，调用此函数恢复数据
  * @author RunQian
  *
  */
@@ -65,7 +65,7 @@ public class Rollback extends FileFunction {
 				raf.readFully(mac1);
 				raf.close();
 				
-				//鱸־ļ
+				//检查备份日志文件的完整性
 				byte []mac2 = MD5.get(bytes);
 				for (int i = 0; i < 16; ++i) {
 					if (mac1[i] != mac2[i]) {
@@ -96,7 +96,7 @@ public class Rollback extends FileFunction {
 				reader.readInt32();
 				
 				byte []reserve = new byte[32];
-				reader.read(reserve); // λ
+				reader.read(reserve); // 保留位
 				long freePos = reader.readLong40();
 				long fileSize = reader.readLong40();
 				if (reserve[0] > 0) {
@@ -122,7 +122,7 @@ public class Rollback extends FileFunction {
 				raf.getChannel().force(false);
 				
 				raf.setLength(freePos);//clear
-				raf.setLength(fileSize);//ָļС
+				raf.setLength(fileSize);//恢复文件大小
 				raf.close();
 				
 				logFile.delete();
@@ -136,7 +136,7 @@ public class Rollback extends FileFunction {
 			}
 		}
 		
-		//Ļָ
+		//处理索引的恢复
 		dir = file.getAbsolutePath() + "_I_TransactionLog";
 		logFile = new FileObject(dir);
 		if (logFile.isExists()) {
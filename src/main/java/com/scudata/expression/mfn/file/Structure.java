@@ -22,7 +22,7 @@ import com.scudata.parallel.ClusterFile;
 import com.scudata.parallel.ClusterPhyTable;
 
 /**
- * ļĽṹ
+ * 获得组表文件的结构
  * f.structure()
  * @author LiWei
  *
@@ -37,7 +37,7 @@ public class Structure extends FileFunction {
 	
 	public Object calculate(Context ctx) {
 		if (file.isRemoteFile()) {
-			// Զļ
+			// 远程文件
 			String host = file.getIP();
 			int port = file.getPort();
 			String fileName = file.getFileName();
@@ -50,7 +50,7 @@ public class Structure extends FileFunction {
 			table.close();
 			return seq;
 		} else {
-			// ļ
+			// 本地文件
 			File f = file.getLocalFile().file();
 			PhyTable table = ComTable.openBaseTable(f, ctx);
 			
@@ -70,7 +70,7 @@ public class Structure extends FileFunction {
 	}
 	
 	/**
-	 * tableĽṹ浽out
+	 * 获得table的结构，保存到out里
 	 * @param table
 	 */
 	public static Record getTableStruct(PhyTable table, String option) {
@@ -124,7 +124,7 @@ public class Structure extends FileFunction {
 	}
 	
 	/**
-	 * tableеĽṹ
+	 * 获得table的列的结构
 	 * @param table
 	 * @return
 	 */
@@ -162,7 +162,7 @@ public class Structure extends FileFunction {
 	}
 	
 	/**
-	 * tableĽṹ
+	 * 获得table的索引的结构
 	 * @param table
 	 * @return
 	 */
@@ -184,7 +184,7 @@ public class Structure extends FileFunction {
 	}
 	
 	/**
-	 * tableԤĽṹ
+	 * 获得table的预分组的结构
 	 * @param table
 	 * @return
 	 */
@@ -205,14 +205,14 @@ public class Structure extends FileFunction {
 				srcCuboid = new Cuboid(file, null);
 				Record rec = new Record(new DataStruct(CUBOID_FIELD_NAMES));
 				rec.setNormalFieldValue(0, cuboid);
-				rec.setNormalFieldValue(1, new Sequence(srcCuboid.getExps()));//ʽ
+				rec.setNormalFieldValue(1, new Sequence(srcCuboid.getExps()));//分组表达式
 				
 				/**
-				 * ܱ֯ʽ
+				 * 组织汇总表达式
 				 */
 				Sequence aggr = new Sequence();
-				String[] newExps = srcCuboid.getNewExps();//ܱʽ
-				String[] names = srcCuboid.getBaseTable().getAllColNames();//ĺ벿ǻܱʽname
+				String[] newExps = srcCuboid.getNewExps();//汇总表达式
+				String[] names = srcCuboid.getBaseTable().getAllColNames();//这里的后半部分是汇总表达式的name
 				int len = newExps.length;
 				int start = names.length - len;
 				for (int i = 0; i < len; i++) {
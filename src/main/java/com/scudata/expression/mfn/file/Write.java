@@ -7,7 +7,7 @@ import com.scudata.expression.FileFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * дıļ
+ * 将对象写出到文本文件
  * f.write(s)
  * @author RunQian
  *
@@ -22,18 +22,18 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * f.xlsexport(A,x:F,;s;p) ExcelļsΪҳsʡʱдһҳAαꡣxlsxļд100Զֹͣ
+ * f.xlsexport(A,x:F,…;s;p) 导出Excel文件，s为页名；s省略时写入第一页，A可是游标。xlsx文件写够100万行自动停止
  * 
- * @a ԭļڽһеĸʽд
- * @t ⣬ԭļʱΪһݵǱ
- * @c ʹʽдļԭļҪȫ룬̫
- * @w Aелس/TabָĴ@t@c⣬x:F
- * @p @wתãекеģǴʱ
+ * @a 原文件存在将延用最后一行的格式继续写
+ * @t 导出标题，原文件存在时认为最后一个有内容的行是标题
+ * @c 使用流式写出大文件，原文件要被全读入，不可太大
+ * @w A是序列的序列或回车/Tab分隔的串，与@t@c互斥，无x:F参数
+ * @p @w加转置，序列的序列是先列后行的，是串时忽略
  */
 public class XlsExport extends FileFunction {
 
 	/**
-	 * 
+	 * 计算
 	 */
 	public Object calculate(Context ctx) {
 		if (param == null) {
@@ -153,16 +153,16 @@ public class XlsExport extends FileFunction {
 
 		if (!isW) {
 			if (isP) {
-				// ѡ@{0}ֻܺѡ@wͬʱʹá
+				// 选项@{0}只能和选项@w同时使用。
 				throw new RQException(AppMessage.get().getMessage(
 						"xlsimport.pnnotw", "p"));
 			}
 		}
 
-		if (file != null) // ʹpoiķжϰ汾
+		if (file != null) // 使用poi的方法判断版本
 			isXlsx = ExcelUtils.isXlsxFile(file);
 
-		// sheet
+		// 检查sheet名称
 		ExcelUtils.checkSheetName(s);
 
 		ExcelTool et = new ExcelTool(file, isTitle, isXlsx, isSsxxf, isAppend,
@@ -176,7 +176,7 @@ public class XlsExport extends FileFunction {
 		ICursor cursor = null;
 		boolean isStr = false;
 		if (isW) {
-			if (src != null && src instanceof String) { // \n\tƴɵĴ
+			if (src != null && src instanceof String) { // 是由\n\t拼成的串
 				src = parseSequence((String) src);
 				isStr = true;
 			}
@@ -185,7 +185,7 @@ public class XlsExport extends FileFunction {
 			return null;
 		} else if (src instanceof Sequence) {
 			seq = (Sequence) src;
-			if (!isStr) {// 
+			if (!isStr) {// 串不处理
 				if (isP) {
 					seq = ExcelUtils.transpose(seq);
 				}
@@ -223,10 +223,10 @@ public class XlsExport extends FileFunction {
 	}
 
 	/**
-	 * ַΪ
+	 * 将字符串解析为序列
 	 * 
 	 * @param str
-	 *            Ҫַ
+	 *            要解析的字符串
 	 * @return
 	 */
 	private Sequence parseSequence(String str) {
@@ -248,7 +248,7 @@ public class XlsExport extends FileFunction {
 				Object val = item;
 				if (StringUtils.isValidString(item)) {
 					if (item.startsWith(KeyWord.CONSTSTRINGPREFIX)
-							&& !item.endsWith(KeyWord.CONSTSTRINGPREFIX)) { // ַ'
+							&& !item.endsWith(KeyWord.CONSTSTRINGPREFIX)) { // 字符串常数'
 						val = item.substring(1);
 					} else {
 						val = Variant.parseCellValue(item);
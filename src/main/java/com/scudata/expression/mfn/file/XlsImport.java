@@ -19,21 +19,21 @@ import com.scudata.resources.AppMessage;
 import com.scudata.resources.EngineMessage;
 
 /**
- * f.xlsimport(Fi,..;s,b:e;p) Excel sΪҳţb,eΪe<0 p
+ * f.xlsimport(Fi,..;s,b:e;p) 读入Excel， s为页名或序号，b,e为行数，e<0倒数 p是密码
  * 
- * @t Ǳ⣬bʱΪb
- * @x ʹxlsxʽȱʡʹļչжϣжϲxls
- * @c سαֻ֧꣬xlsxʽʱeС0
- * @b ȥǰĿհУ@cʱ֧
- * @w еУԱǸֵ @t@c@b
- * @p @wתãекеģǴʱ
- * @n ʱtrimֻʣմʱnull
- * @s سɻس/tabָĴ
+ * @t 首行是标题，有b参数时认为标题在b行
+ * @x 使用xlsx格式，缺省使用文件扩展名判断，判断不出用xls
+ * @c 返回成游标，只支持xlsx格式；此时e不能小于0
+ * @b 去除前后的空白行，@c时不支持
+ * @w 读成序列的序列，成员是格值； 与@t@c@b互斥
+ * @p @w加转置，序列的序列是先列后行的，是串时忽略
+ * @n 读入时做trim，只剩空串时读成null
+ * @s 返回成回车/tab分隔的串
  */
 public class XlsImport extends FileFunction {
 
 	/**
-	 * 
+	 * 计算
 	 */
 	public Object calculate(Context ctx) {
 		String opt = option;
@@ -57,7 +57,7 @@ public class XlsImport extends FileFunction {
 
 		if (!isW) {
 			if (isP) {
-				// ѡ@{0}ֻܺѡ@wͬʱʹá
+				// 选项@{0}只能和选项@w同时使用。
 				throw new RQException(AppMessage.get().getMessage(
 						"xlsimport.pnnotw", "p"));
 			}
@@ -114,7 +114,7 @@ public class XlsImport extends FileFunction {
 		IParam fieldParam;
 		String pwd = null;
 		if (param.getType() == IParam.Semicolon) {
-			if (param.getSubSize() != 2 && param.getSubSize() != 3) { // һ֮ǰ
+			if (param.getSubSize() != 2 && param.getSubSize() != 3) { // 兼容一下之前的
 				MessageManager mm = EngineMessage.get();
 				throw new RQException("xlsimport"
 						+ mm.getMessage("function.invalidParam"));
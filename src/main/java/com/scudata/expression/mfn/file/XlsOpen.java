@@ -12,18 +12,18 @@ import com.scudata.resources.AppMessage;
 import com.scudata.resources.EngineMessage;
 
 /**
- * f.xlsopen(p) Excelļfسɶ p룻ضΪֻ
- * stnameҳ,nrows,ncols
+ * 函数f.xlsopen(p) 读出Excel文件f返回成对象， p是密码；返回对象可作为只读序表
+ * stname（页名）,nrows（行数）,ncols（列数）
  * 
- * @r ʽڳ򵼳xlsпزȷ
- * @w ʽдʱܷϢ@r
+ * @r 流式读，对于程序导出的xls有可能行列数返回不正确
+ * @w 流式写，此时不能返回索引信息，与@r互斥
  * 
  *
  */
 public class XlsOpen extends FileFunction {
 
 	/**
-	 * 
+	 * 计算
 	 */
 	public Object calculate(Context ctx) {
 		String opt = option;
@@ -31,13 +31,13 @@ public class XlsOpen extends FileFunction {
 		boolean isW = opt != null && opt.indexOf("w") > -1;
 
 		if (isR && isW) {
-			// @w@rss
+			// @w与@r互斥ss
 			MessageManager mm = AppMessage.get();
-			throw new RQException("xlsopen" + mm.getMessage("filexls.notrw")); // ѡwrͬʱ
+			throw new RQException("xlsopen" + mm.getMessage("filexls.notrw")); // ：选项w与r不能同时设置
 		}
 
 		if (param == null) {
-			// Excelļ
+			// 返回Excel文件对象
 			return xlsOpen(isR, isW);
 		}
 
@@ -73,7 +73,7 @@ public class XlsOpen extends FileFunction {
 	}
 
 	/**
-	 * xoļ
+	 * 创建xo文件对象
 	 * 
 	 * @param isR
 	 * @param isW
@@ -84,12 +84,12 @@ public class XlsOpen extends FileFunction {
 	}
 
 	/**
-	 * xoļ
+	 * 创建xo文件对象
 	 * 
 	 * @param pwd
-	 *            
+	 *            密码
 	 * @param isR
-	 *            ѡ@r
+	 *            选项@r
 	 * @param isW
 	 * @return
 	 */
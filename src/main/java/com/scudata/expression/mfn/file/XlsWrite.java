@@ -9,13 +9,13 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * f.xlswrite(xo,p)Excelдļxo@r@wʽ
+ * 函数f.xlswrite(xo,p)。把Excel对象写入文件，xo不能以@r@w方式打开
  *
  */
 public class XlsWrite extends FileFunction {
 
 	/**
-	 * 
+	 * 计算
 	 */
 	public Object calculate(Context ctx) {
 		if (param == null) {
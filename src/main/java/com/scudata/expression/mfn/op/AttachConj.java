@@ -8,10 +8,10 @@ import com.scudata.expression.Expression;
 import com.scudata.expression.OperableFunction;
 import com.scudata.resources.EngineMessage;
 
-// Աĺ
+// 成员的和列
 /**
- * αܵк
- * op.conj() op.conj(x)opеαܵ
+ * 对游标或管道附加序列和列运算
+ * op.conj() op.conj(x)，op是序列的游标或管道
  * @author RunQian
  *
  */
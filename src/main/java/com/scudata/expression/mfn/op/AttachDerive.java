@@ -18,8 +18,8 @@ import com.scudata.expression.operator.And;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αֶܵ
- * op.derive(xi:Fi,) op.derive@x(xi:Fi,;n) opαܵ
+ * 对游标或管道附加添加字段生成新序表运算
+ * op.derive(xi:Fi,…) op.derive@x(xi:Fi,…;n) op是游标或管道
  * @author RunQian
  *
  */
@@ -10,8 +10,8 @@ import com.scudata.expression.ParamInfo2;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵ
- * op.group(x,) op.group(x:F,;y:G,) opαܵ
+ * 对游标或管道附加有序分组运算
+ * op.group(x,…) op.group(x:F,…;y:G,…) op是游标或管道
  * @author RunQian
  *
  */
@@ -11,8 +11,8 @@ import com.scudata.expression.OperableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵӰŷ㣬鰴дӦ
- * op.groupn(x;F) op.groupn(x;C) opαܵFļУCǹܵ
+ * 对游标或管道附加按序号分组运算，各组按序号写到相应的输出对象
+ * op.groupn(x;F) op.groupn(x;C) op是游标或管道，F是文件序列，C是管道序列
  * @author RunQian
  *
  */
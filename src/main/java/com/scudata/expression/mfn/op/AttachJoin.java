@@ -11,8 +11,8 @@ import com.scudata.parallel.ClusterMemoryTable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵӹ
- * op.join(x:,A:y:,z:F,;) opαܵ
+ * 对游标或管道附加关联运算
+ * op.join(x:…,A:y:…,z:F,…;…) op是游标或管道
  * @author RunQian
  *
  */
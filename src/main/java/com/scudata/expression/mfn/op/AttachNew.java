@@ -19,8 +19,8 @@ import com.scudata.expression.operator.And;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵӴ;.new()
- * op.new(xi:Fi,) opαܵ
+ * 对游标或管道附加创建新序表运算;对虚表.new()处理
+ * op.new(xi:Fi,…) op是游标或管道
  * @author RunQian
  *
  */
@@ -149,7 +149,7 @@ public class AttachNew extends OperableFunction {
 	public static boolean isPseudoOper(Object srcObj, IParam param, Context ctx) {
 		if (srcObj == null || param == null) return false;
 		if (srcObj instanceof PseudoTable) {
-			//srcObjԭʼҲ
+			//如果srcObj是原始虚表且参数是虚表
 			try {
 				if (param.getType() == IParam.Normal) {
 					Object obj = param.getLeafExpression().calculate(ctx);
@@ -165,17 +165,17 @@ public class AttachNew extends OperableFunction {
 					}
 				}
 			} catch (RQException e) {
-				//obj
+				//obj不是虚表对象则忽略
 			}
 		}
 		return false;
 	}
 	
 	/**
-	 * ȡnewnewsĵһ (A/cs:K)
+	 * 提取new、news的第一个参数 (A/cs:K)
 	 * @param param
 	 * @param ctx
-	 * @return Object[] {A/cs, K}
+	 * @return Object[] {A/cs对象, K数组}
 	 */
 	public static Object[] parse1stParam(IParam param, Context ctx) {
 		Object[] objs = new Object[3];
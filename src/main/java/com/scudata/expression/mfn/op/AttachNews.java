@@ -19,8 +19,8 @@ import com.scudata.expression.operator.And;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵӴϲ
- * op.news(X;xi:Fi,) opαܵ
+ * 对游标或管道附加创建合并新序表运算
+ * op.news(X;xi:Fi,…) op是游标或管道
  * @author RunQian
  *
  */
@@ -10,8 +10,8 @@ import com.scudata.expression.OperableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵݵܵ
- * op.push(chi) opαܵ
+ * 对游标或管道附加推送数据到管道的运算
+ * op.push(chi…) op是游标或管道
  * @author RunQian
  *
  */
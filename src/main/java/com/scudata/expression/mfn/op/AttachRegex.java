@@ -13,8 +13,8 @@ import com.scudata.expression.OperableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵģʽƥ
- * op.regex(rs,F) opαܵ
+ * 对游标或管道附加模式匹配运算
+ * op.regex(rs,F) op是游标或管道
  * @author RunQian
  *
  */
@@ -6,8 +6,8 @@ import com.scudata.expression.OperableFunction;
 import com.scudata.expression.ParamInfo2;
 
 /**
- * αܵӶֶν
- * op.rename(F:F',) opαܵ
+ * 对游标或管道附加对字段进行重命名运算
+ * op.rename(F:F',…) op是游标或管道
  * @author RunQian
  *
  */
@@ -7,8 +7,8 @@ import com.scudata.expression.OperableFunction;
 import com.scudata.expression.ParamInfo2;
 
 /**
- * αܵӼʽ
- * op.run(xi,) op.run(xi:Fi:,) opαܵ
+ * 对游标或管道附加计算表达式运算
+ * op.run(xi,…) op.run(xi:Fi:,…) op是游标或管道
  * @author RunQian
  *
  */
@@ -13,8 +13,8 @@ import com.scudata.expression.OperableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵӹ
- * op.select(x) op.select(x;f) op.select(x;ch) opαܵfļchǹܵдļܵ
+ * 对游标或管道附加过滤运算
+ * op.select(x) op.select(x;f) op.select(x;ch) op是游标或管道，f是文件，ch是管道，不满足条件的写到文件或管道
  * @author RunQian
  *
  */
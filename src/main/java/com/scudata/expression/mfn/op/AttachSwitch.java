@@ -13,8 +13,8 @@ import com.scudata.parallel.ClusterMemoryTable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αܵл
- * op.switch(Fi,Ai:x;) op.switch(Fi;...) opαܵ
+ * 对游标或管道附加外键切换运算
+ * op.switch(Fi,Ai:x;…) op.switch(Fi;...) op是游标或管道
  * @author RunQian
  *
  */
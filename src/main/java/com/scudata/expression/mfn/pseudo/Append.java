@@ -8,7 +8,7 @@ import com.scudata.expression.PseudoFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ׷αݵ
+ * 追加游标数据到组表中
  * T.append(cs)
  * @author RunQian
  *
@@ -14,7 +14,7 @@ import com.scudata.resources.EngineMessage;
 
 
 /**
- * α
+ * 创建虚表游标
  * pseudo.cursor()
  * @author RunQian
  *
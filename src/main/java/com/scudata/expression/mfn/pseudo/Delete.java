@@ -8,7 +8,7 @@ import com.scudata.expression.PseudoFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ָݴɾ
+ * 把指定数据从组表中删除，组表需有主键
  * T.delete(P)
  * @author RunQian
  *
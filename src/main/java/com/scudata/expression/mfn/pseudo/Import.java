@@ -8,7 +8,7 @@ import com.scudata.dm.cursor.ICursor;
 import com.scudata.expression.PseudoFunction;
 
 /**
- * 
+ * 从虚表导入数据
  * pseudo.import()
  * @author RunQian
  *
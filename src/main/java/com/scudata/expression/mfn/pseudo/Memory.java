@@ -14,8 +14,8 @@ import com.scudata.parallel.ClusterCursor;
 import com.scudata.parallel.ClusterPseudo;
 
 /**
- * ڱ
- * T.memory(C,;w)
+ * 把虚表读成内表
+ * T.memory(C,…;w)
  * @author RunQian
  *
  */
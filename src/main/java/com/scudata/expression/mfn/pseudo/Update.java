@@ -8,7 +8,7 @@ import com.scudata.expression.PseudoFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * 
+ * 更新虚表数据
  * pseudo.update(P)
  * @author RunQian
  *
@@ -7,8 +7,8 @@ import com.scudata.expression.IParam;
 import com.scudata.expression.RecordFunction;
 
 /**
- * ȡ¼ֶ
- * r.array(Fi,)
+ * 取出记录的字段组成序列
+ * r.array(Fi,…)
  * @author RunQian
  *
  */
@@ -5,7 +5,7 @@ import com.scudata.dm.Table;
 import com.scudata.expression.RecordFunction;
 
 /**
- * ʹü¼ݽṹ
+ * 使用记录的数据结构产生空序表返回
  * r.create()
  * @author RunQian
  *
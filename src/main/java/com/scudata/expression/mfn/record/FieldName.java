@@ -8,7 +8,7 @@ import com.scudata.expression.RecordFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ؼ¼ֶָλֶεֶ
+ * 返回记录指定字段或所有字段的字段名
  * r.fname(i) r.fname()
  * @author RunQian
  *
@@ -25,7 +25,7 @@ public class FieldName extends RecordFunction {
 				throw new RQException("fname" + mm.getMessage("function.paramTypeError"));
 			}
 
-			// ֶδ0ʼ
+			// 字段从0开始计数
 			int findex = ((Number)indexObj).intValue() - 1;
 			if (findex < 0) {
 				MessageManager mm = EngineMessage.get();
@@ -7,7 +7,7 @@ import com.scudata.expression.RecordFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡ¼ֶָεŻֶ
+ * 取记录指定字段的序号或字段数量
  * r.fno(F) r.fno()
  * @author RunQian
  *
@@ -9,15 +9,15 @@ import com.scudata.expression.RecordFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡ¼ֶָεֵֶָεֵ
+ * 取记录指定字段的值或设置指定字段的值
  * r.field(F) r.field(F, v)
  * @author RunQian
  *
  */
 public class FieldValue extends RecordFunction {
-	private String prevName; // һμֶ
-	private DataStruct prevDs; // һ¼ݽṹ
-	private int prevCol; // һ¼ֶε
+	private String prevName; // 上一次计算的字段名
+	private DataStruct prevDs; // 上一条记录的数据结构
+	private int prevCol; // 上一条记录字段的序号
 	
 	public Object calculate(Context ctx) {
 		if (param == null) {
@@ -28,11 +28,11 @@ public class FieldValue extends RecordFunction {
 			if (obj instanceof Number) {
 				int findex = ((Number)obj).intValue();
 				if (findex > 0) {
-					// ֶδ0ʼ
+					// 字段从0开始计数
 					findex--;
 				} else if (findex == 0) {
 					return null;
-				} // С0Ӻ
+				} // 小于0从后数
 				
 				return srcRecord.getFieldValue2(findex);
 			} else if (obj instanceof String) {
@@ -74,11 +74,11 @@ public class FieldValue extends RecordFunction {
 			if (obj instanceof Number) {
 				int findex = ((Number)obj).intValue();
 				if (findex > 0) {
-					// ֶδ0ʼ
+					// 字段从0开始计数
 					findex--;
 				} else if (findex == 0) {
 					return null;
-				} // С0Ӻ
+				} // 小于0从后数
 				
 				srcRecord.set2(findex, value);
 			} else if (obj instanceof String) {				
@@ -9,8 +9,8 @@ import com.scudata.expression.RecordFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡ¼ļֵֵس
- * r.key() r.key(Fi,)
+ * 取记录的键值，多键值返回成序列
+ * r.key() r.key(Fi,…)
  * @author RunQian
  *
  */
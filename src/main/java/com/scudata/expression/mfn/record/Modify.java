@@ -9,8 +9,8 @@ import com.scudata.expression.RecordFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ޸ļ¼ֵֶ
- * r.modify(xi:Fi,) r.modify(r')
+ * 修改记录的字段值
+ * r.modify(xi:Fi,…) r.modify(r')
  * @author RunQian
  *
  */
@@ -9,7 +9,7 @@ import com.scudata.expression.RecordFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Լ¼ݹѯ
+ * 对记录的外键做递归查询
  * r.prior(F,r',n)
  * @author RunQian
  *
@@ -8,7 +8,7 @@ import com.scudata.expression.RecordFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * еԪ¼ֶ
+ * 将序列的元素依次填入记录的字段
  * r.record(A)
  * @author RunQian
  *
@@ -6,8 +6,8 @@ import com.scudata.expression.ParamInfo2;
 import com.scudata.expression.RecordFunction;
 
 /**
- * Լ¼ʽؼ¼
- * r.run(xi,) r.run(xi:Fi:,)
+ * 针对记录计算表达式，返回记录本身
+ * r.run(xi,…) r.run(xi:Fi:,…)
  * @author RunQian
  *
  */
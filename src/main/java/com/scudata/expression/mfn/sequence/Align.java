@@ -10,14 +10,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * лнж
+ * 对序列或排列进行对齐
  * P.align(A:x,y) P.align(n,y)
  * @author RunQian
  *
  */
 public class Align extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
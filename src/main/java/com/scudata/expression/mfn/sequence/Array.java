@@ -9,14 +9,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * תе
+ * 把排列转成序列的序列
  * P.array()
  * @author RunQian
  *
  */
 public class Array extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
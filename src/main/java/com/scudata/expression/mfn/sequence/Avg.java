@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ƽֵ
+ * 计算序列平均值
  * A.avg(), A.avg(x)
  * @author RunQian
  *
@@ -4,8 +4,8 @@ import com.scudata.dm.Context;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * Ԫصƽֵ
- * A.avgif(Ai:xi,)
+ * 计算满足给定条件的元素的平均值
+ * A.avgif(Ai:xi,…)
  * @author RunQian
  *
  */
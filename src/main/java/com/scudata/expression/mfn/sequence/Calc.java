@@ -10,14 +10,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * еĳĳЩԪؼʽ
+ * 针对序列的某个或某些元素计算表达式
  *  A.calc(k,x) A.calc(p,x)
  * @author RunQian
  *
  */
 public class Calc extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
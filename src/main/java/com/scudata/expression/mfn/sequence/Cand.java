@@ -8,8 +8,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * еĳԱ߼
- * A.cand()A.cand(x)
+ * 针对序列的成员做逻辑与运算
+ * A.cand()、A.cand(x)
  * @author RunQian
  *
  */
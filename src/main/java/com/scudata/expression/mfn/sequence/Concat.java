@@ -7,7 +7,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ԷָеĳԱΪַ
+ * 以分隔符连接序列中的成员成为字符串，处理子序列
  * A.concat(d)
  * @author RunQian
  *
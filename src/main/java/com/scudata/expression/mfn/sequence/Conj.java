@@ -8,8 +8,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * гԱĺ
- * A.conj() A.conj(x)Aе
+ * 计算序列成员的和列
+ * A.conj() A.conj(x)，A是序列的序列
  * @author RunQian
  *
  */
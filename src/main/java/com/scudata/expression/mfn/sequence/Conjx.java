@@ -10,7 +10,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αзسα꣬ṹԵһΪ׼
+ * 纵向接续游标序列返回成游标，结构以第一个为准
  * CS.conjx()
  * @author RunQian
  *
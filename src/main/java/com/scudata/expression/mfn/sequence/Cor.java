@@ -8,8 +8,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * еĳԱ߼
- * A.cor()A.cor(x)
+ * 针对序列的成员做逻辑或运算
+ * A.cor()、A.cor(x)
  * @author RunQian
  *
  */
@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡֵΪ棨ǿղҲfalseԪصĸ
+ * 返回序列中取值为真（非空并且不是false）的元素的个数
  * A.count(), A.count(x)
  * @author RunQian
  *
@@ -4,8 +4,8 @@ import com.scudata.dm.Context;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * ԪȡֵΪ棨ǿղҲfalseĸ
- * A.countif(Ai:xi,)
+ * 计算满足给定条件的元素取值为真（非空并且不是false）的个数
+ * A.countif(Ai:xi,…)
  * @author RunQian
  *
  */
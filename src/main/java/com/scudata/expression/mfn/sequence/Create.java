@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * ʹеһ¼ݽṹ
+ * 使用序表或排列第一条记录的数据结构产生空序表返回
  * T.create() P.create()
  * @author RunQian
  *
@@ -28,8 +28,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CursorUtil;
 
 /**
- * תα·α
- * A.cursor(k:n) A.cursor@m(n) A.cursor@m(mcs,K:K,...)
+ * 把序列转成游标或多路游标
+ * A.cursor(k:n) A.cursor@m(n) A.cursor@m(mcs,K:K‘,...)
  * @author RunQian
  *
  */
@@ -91,22 +91,22 @@ public class CreateCursor extends SequenceFunction {
 		}
 	}
 		
-	// ڱα꣬ͬαͬ
+	// 由内表创建游标，参数同由组表创建游标相同
 	private static ICursor createCursor(MemoryTable table, IParam param, String opt, Context ctx) {
 		boolean isMultiThread = opt != null && opt.indexOf('m') != -1;
 		if (param == null && !isMultiThread) {
 			return table.cursor();
 		}
 		
-		IParam fieldParam = null; // ѡֶβ
-		Expression filter = null; // 
+		IParam fieldParam = null; // 选出字段参数
+		Expression filter = null; // 过滤条件
 		
-		// ֶκ͹ά
+		// 做关联的字段和关联的维表
 		String []fkNames = null;
 		Sequence []codes = null;
 		String []opts = null;
 		
-		IMultipath mcs = null; // ֶͬα
+		IMultipath mcs = null; // 同步分段游标
 		int segSeq = 0;
 		int segCount = 0;
 		if (isMultiThread) {
@@ -176,7 +176,7 @@ public class CreateCursor extends SequenceFunction {
 					if (obj instanceof MultipathCursors) {
 						mcs = (MultipathCursors)obj;
 					} else if (obj instanceof ICursor) {
-						// cursor@mΪջĿС2ܲ᷵ض·α
+						// cursor@m如果结果集为空或者满足条件的块小于2可能不会返回多路游标
 						isMultiThread = false;
 					} else {
 						if (!isMultiThread) {
@@ -480,7 +480,7 @@ public class CreateCursor extends SequenceFunction {
 		return CursorUtil.cursor(seq, pathCount, opt, ctx);
 	}
 	
-	// ڴдα
+	// 由内存序列创建游标
 	private static ICursor createCursor(Sequence seq, IParam param, String opt, Context ctx) {
 		if (param == null) {
 			return seq.cursor();
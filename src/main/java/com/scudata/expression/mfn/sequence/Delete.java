@@ -8,14 +8,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ɾָλãλУԪ
+ * 删除序列中指定位置（多个则是位置序列）的元素
  * A.delete(k) A.delete(p)
  * @author RunQian
  *
  */
 public class Delete extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -10,8 +10,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ϊֶ
- * A.derive(xi:Fi,) A.derive@x(xi:Fi,;n)
+ * 为排列添加字段生成新序表
+ * A.derive(xi:Fi,…) A.derive@x(xi:Fi,…;n)
  * @author RunQian
  *
  */
@@ -8,8 +8,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * гԱĲ
- * A.diff() A.diff(x)Aе
+ * 计算序列成员的差列
+ * A.diff() A.diff(x)，A是序列的序列
  * @author RunQian
  *
  */
@@ -17,8 +17,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * иʽַ
- * A.export(x:F,;s)
+ * 将排列格式化成字符串
+ * A.export(x:F,…;s)
  * @author RunQian
  *
  */
@@ -61,12 +61,12 @@ public class Export extends SequenceFunction {
 	}
 
 	/**
-	 * бַ
-	 * @param sequence 
-	 * @param exps ֶαʽɿ
-	 * @param names ֶɿ
-	 * @param s зָ
-	 * @param option ѡ
+	 * 将排列变成字符串
+	 * @param sequence 排列
+	 * @param exps 字段表达式，可空
+	 * @param names 导出字段名，可空
+	 * @param s 列分隔符
+	 * @param option 选项
 	 * @param ctx
 	 * @return
 	 */
@@ -130,7 +130,7 @@ public class Export extends SequenceFunction {
 						}
 					}
 				} else {
-					// AеʱޱĶı
+					// A是序列的序列时，生成无标题的多列文本
 					Object []lineObjs = new Object[fcount];
 					for (int i = 1, len = sequence.length(); i <= len; ++i) {
 						Sequence seq = (Sequence)sequence.getMem(i);
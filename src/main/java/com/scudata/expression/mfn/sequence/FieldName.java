@@ -9,7 +9,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ֶָλֶεֶ
+ * 返回序表指定字段或所有字段的字段名
  * T.fname(i) T.fname()
  * @author RunQian
  *
@@ -31,7 +31,7 @@ public class FieldName extends SequenceFunction {
 				throw new RQException("fname" + mm.getMessage("function.paramTypeError"));
 			}
 
-			// ֶδ0ʼ
+			// 字段从0开始计数
 			int findex = ((Number)indexObj).intValue() - 1;
 			if (findex < 0) {
 				MessageManager mm = EngineMessage.get();
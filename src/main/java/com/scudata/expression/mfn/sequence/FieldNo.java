@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡֶָεŻֶ
+ * 取序表指定字段的序号或字段数量
  * T.fno(F) T.fno()
  * @author RunQian
  *
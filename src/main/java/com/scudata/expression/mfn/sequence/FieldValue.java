@@ -11,14 +11,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡֶָεֵֶָεֵ
+ * 取排列指定字段的值或设置指定字段的值
  * A.field(F) A.field(F, v)
  * @author RunQian
  *
  */
 public class FieldValue extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -33,11 +33,11 @@ public class FieldValue extends SequenceFunction {
 			if (obj instanceof Number) {
 				int findex = ((Number)obj).intValue();
 				if (findex > 0) {
-					// ֶδ0ʼ
+					// 字段从0开始计数
 					findex--;
 				} else if (findex == 0) {
 					return null;
-				} // С0Ӻ
+				} // 小于0从后数
 				
 				if (option == null || option.indexOf('r') == -1) {
 					return getFieldValues(srcSequence, findex);
@@ -72,11 +72,11 @@ public class FieldValue extends SequenceFunction {
 			if (obj instanceof Number) {
 				int findex = ((Number)obj).intValue();
 				if (findex > 0) {
-					// ֶδ0ʼ
+					// 字段从0开始计数
 					findex--;
 				} else if (findex == 0) {
 					return null;
-				} // С0Ӻ
+				} // 小于0从后数
 				
 				if (value instanceof Sequence) {
 					setFieldValues(srcSequence, findex, (Sequence)value);
@@ -147,8 +147,8 @@ public class FieldValue extends SequenceFunction {
 		int size = src.length();
 		Sequence result = new Sequence(size);
 
-		int col = -1; // ֶһ¼
-		BaseRecord prevRecord = null; // һ¼
+		int col = -1; // 字段在上一条记录的索引
+		BaseRecord prevRecord = null; // 上一条记录
 
 		int i = 1;
 		while (i <= size) {
@@ -203,8 +203,8 @@ public class FieldValue extends SequenceFunction {
 	public static void setFieldValues(Sequence src, String fieldName, Object val) {
 		int size = src.length();
 
-		int col = -1; // ֶһ¼
-		BaseRecord prevRecord = null; // һ¼
+		int col = -1; // 字段在上一条记录的索引
+		BaseRecord prevRecord = null; // 上一条记录
 
 		int i = 1;
 		while (i <= size) {
@@ -252,8 +252,8 @@ public class FieldValue extends SequenceFunction {
 			throw new RQException("field: " + mm.getMessage("engine.memCountNotMatch"));
 		}
 
-		int col = -1; // ֶһ¼
-		BaseRecord prevRecord = null; // һ¼
+		int col = -1; // 字段在上一条记录的索引
+		BaseRecord prevRecord = null; // 上一条记录
 
 		int i = 1;
 		while (i <= len) {
@@ -10,8 +10,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ߷
- * A.group(xi,) A.group(x:F,;y:G)
+ * 对序列做分组或者分组汇总
+ * A.group(xi,…) A.group(x:F,…;y:G…)
  * @author RunQian
  *
  */
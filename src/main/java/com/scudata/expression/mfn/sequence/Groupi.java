@@ -8,14 +8,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ΪĶά
- * A.groupi(Di,)
+ * 为填报表的多层维生成序列
+ * A.groupi(Di,…)
  * @author RunQian
  *
  */
 public class Groupi extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
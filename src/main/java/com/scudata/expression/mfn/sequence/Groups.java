@@ -15,14 +15,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ۼƷʽнзۺ
- * A.groups(x:F;y:G)
+ * 采用累计方式对排列进行分组聚合
+ * A.groups(x:F…;y:G…)
  * @author RunQian
  *
  */
 public class Groups extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -32,17 +32,17 @@ public class Groups extends SequenceFunction {
 	}
 
 	public Object calculate(Context ctx) {
-		ArrayList<Object> gathers = new ArrayList<Object>(); // ͳƾۺϺ
-		ArrayList<Integer> poss = new ArrayList<Integer>(); // ʽӦۺϺбĵڼۺϺ
+		ArrayList<Object> gathers = new ArrayList<Object>(); // 统计聚合函数
+		ArrayList<Integer> poss = new ArrayList<Integer>(); // 分组表达式，对应聚合函数列表的第几个聚合函数
 		
-		Expression[] exps; // ʽ
-		String[] names = null; // ʽ
-		Expression[] calcExps = null; // ۺϱʽ
-		String[] calcNames = null; // ۺֶε
+		Expression[] exps; // 分组表达式数组
+		String[] names = null; // 分组表达式的新名字
+		Expression[] calcExps = null; // 聚合表达式数组
+		String[] calcNames = null; // 聚合字段的名字
 
-		//	groupsĲֽ ʽʽ֡ͳƱʽͳƱʽ
+		//	把groups的参数分解成 分组表达式、分组表达式的名字、统计表达式、统计表达式的名字
 		char type = param.getType();
-		if (type == IParam.Normal) { // ֻһ
+		if (type == IParam.Normal) { // 只有一个参数
 			exps = new Expression[]{param.getLeafExpression()};
 		} else if (type == IParam.Colon) { // :
 			if (param.getSubSize() != 2) {
@@ -88,11 +88,11 @@ public class Groups extends SequenceFunction {
 			}
 		}
 		
-		// ʽȺ;ۺϱʽ
+		// 分组表达式长度和聚合表达式长度
 		int elen = exps == null ? 0 : exps.length;
 		int clen = calcExps == null ? 0 : calcExps.length;
 		
-		// ʽеľۺϺ
+		// 解析表达式中的聚合函数
 		for (int i = 0; i < clen; i++) {
 			int size = gathers.size();
 			gathers.addAll(Expression.getSpecFunc(calcExps[i], Gather.class));
@@ -101,7 +101,7 @@ public class Groups extends SequenceFunction {
 			poss.add(gathers.size());
 		}
 		
-		// мۺϱʽ
+		// 生成中间聚合表达式
 		Expression[] tempExps = new Expression[gathers.size()];
 		for (int i = 0; i < tempExps.length; i++) {
 			Object obj = gathers.get(i);
@@ -113,13 +113,13 @@ public class Groups extends SequenceFunction {
 			}
 		}
 		
-		// new αıʽ
+		// new 游标的表达式
 		Expression[] senExps = new Expression[elen+clen];
-		String strExp = null;	// ϱʽַ
-		int index = 0;	// ϱʽ
+		String strExp = null;	// 老表达式字符串。
+		int index = 0;	// 老表达式的索引
 		
-		// ϱʽתΪµnewͳбʽ
-		boolean exCal	= false;	// жǷ־ۺϱʽ
+		// 根据老表达式，转换为新的new的统计列表达式
+		boolean exCal	= false;	// 判断是否拆分聚合表达式
 		if (calcExps != null) {
 			strExp = calcExps[index].toString();
 		}
@@ -138,23 +138,23 @@ public class Groups extends SequenceFunction {
 			}
 		}
 		
-		// @bȥֶ
+		// @b：结果集去掉分组字段
 		boolean bopt = option != null && option.indexOf('b') != -1;
-		String[] senNames	= null;	// ͳһ
-		String[] tempNames	= calcNames;	// ʱ
+		String[] senNames	= null;	// 统一的列名
+		String[] tempNames	= calcNames;	// 临时表列名
 		if (exCal) {
-			tempNames = null;	// ҪnewʱΪ
-			// дʽ
+			tempNames = null;	// 若需要用new二次整理，临时表列名为空
+			// 填写分组表达式
 			for (int i = 1; i <= elen; i++) {
 				String funStr = "#" + i;
 				senExps[i-1] = new Expression(cs, ctx, funStr);
 			}
 			
-			if (senExps.length > 0)	{// һʽ
+			if (senExps.length > 0)	{// 最后一个表达式的生成
 				senExps[index+elen] = new Expression(cs, ctx, strExp);
 			}
 			
-			// ͳһ
+			// 生成统一的列名
 			senNames = new String[elen + calcNames.length];
 			for (int i = 0; i < elen; i++) {
 				senNames[i] = names[i];
@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡֵΪ棨ǿղҲfalseķظԪ
+ * 返回序列中取值为真（非空并且不是false）的非重复元素数量
  * A.icount()
  * @author RunQian
  *
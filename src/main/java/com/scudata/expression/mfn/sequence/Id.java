@@ -11,8 +11,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * нȥ
- * A.id() A.id(xi,;n)
+ * 对序列进行去重
+ * A.id() A.id(xi,…;n)
  * @author RunQian
  *
  */
@@ -26,7 +26,7 @@ public class Id extends SequenceFunction {
 			return series.id(option);
 		}
 		
-		// ûnȡ
+		// 没有设置n参数则取出所有
 		int n = Integer.MAX_VALUE;
 		IParam expParam;
 		if (param.getType() == IParam.Semicolon) {
@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * еһΪյԪ
+ * 返回序列第一个不为空的元素
  * A.ifn(), A.ifn(x)
  * @author RunQian
  *
@@ -12,14 +12,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ΪлԪ
- * A.insert(k,x) T.insert(k) T.insert(k,xi:Fi,) T.insert(k:A,xi:Fi,) T.insert(k:A)
+ * 为序列或序表插入元素
+ * A.insert(k,x) T.insert(k) T.insert(k,xi:Fi,…) T.insert(k:A,xi:Fi,…) T.insert(k:A)
  * @author RunQian
  *
  */
 public class Insert extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -68,7 +68,7 @@ public class Insert extends SequenceFunction {
 
 			seq.insert(((Number)posVal).intValue(), val);
 		} else {
-			// kδдʱٶA򣬲xѴ򲻲
+			// k未写时，假定A有序，插入x，已存在则不插入
 			seq.sortedInsert(val);
 		}
 		
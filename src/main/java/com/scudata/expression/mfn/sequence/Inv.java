@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * е
+ * 返回数列的逆数列
  * p.inv(k)
  * @author RunQian
  *
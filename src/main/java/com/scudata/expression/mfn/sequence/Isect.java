@@ -8,8 +8,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * гԱĽ
- * A.isect() A.isect(x)Aе
+ * 计算序列成员的交列
+ * A.isect() A.isect(x)，A是序列的序列
  * @author RunQian
  *
  */
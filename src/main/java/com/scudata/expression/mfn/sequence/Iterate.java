@@ -9,14 +9,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ִе
+ * 对序列执行迭代运算
  * A.iterate(x,a,c)
  * @author WangXiaoJun
  *
  */
 public class Iterate extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -12,14 +12,14 @@ import com.scudata.parallel.ClusterMemoryTable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * һЩֶ
- * A.join(x:,A:y:,z:F,;x:,A:y:,z:F,;)
+ * 把排列与其它排列做关联，复制一些字段生成新序表返回
+ * A.join(x:…,A:y:…,z:F,…;x:…,A:y:…,z:F,…;)
  * @author RunQian
  *
  */
 public class JoinFK extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
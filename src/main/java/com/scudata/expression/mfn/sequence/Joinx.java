@@ -12,14 +12,14 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CursorUtil;
 
 /**
- * лӣһЩֶ
- * T.joinx(x:,A:y:,z:F,;x:,A:y:,z:F,;)
+ * 把排列与其它排列或者外存表做连接，复制一些字段生成新序表返回
+ * T.joinx(x:…,A:y:…,z:F,…;x:…,A:y:…,z:F,…;)
  * @author RunQian
  *
  */
 public class Joinx extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * еĳ
+ * 返回序列的长度
  * A.len()
  * @author RunQian
  *
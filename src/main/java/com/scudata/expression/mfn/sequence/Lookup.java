@@ -10,8 +10,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ϲ
- * A.lookup(Ai:xi,)
+ * 多序列组合查找
+ * A.lookup(Ai:xi,…)
  * @author RunQian
  *
  */
@@ -11,7 +11,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * αɶ·α
+ * 用游标序列生成多路游标
  * CS.mcursor()
  * @author RunQian
  *
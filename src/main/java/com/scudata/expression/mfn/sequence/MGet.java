@@ -10,7 +10,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡгԱԽ緵ؿ
+ * 取序列成员，越界返回空
  * A.m(i) A.m(p)
  * @author RunQian
  *
@@ -40,7 +40,7 @@ public class MGet extends SequenceFunction {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -9,7 +9,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ֵ
+ * 求最大值
  * A.max() A.max(x)
  * @author RunQian
  *
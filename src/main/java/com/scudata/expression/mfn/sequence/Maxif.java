@@ -4,8 +4,8 @@ import com.scudata.dm.Context;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * Ԫصֵ
- * A.maxif(Ai:xi,)
+ * 计算满足给定条件的元素的最大值
+ * A.maxif(Ai:xi,…)
  * @author RunQian
  *
  */
@@ -9,7 +9,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡʹʽֵļ¼
+ * 取使表达式返回值最大的记录
  * A.maxp(x)
  * @author RunQian
  *
@@ -12,8 +12,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CursorUtil;
 
 /**
- * еĳԱУҰָʽ򣬶гԱ鲢ϲһ
- * A.merge(xi,)
+ * 序列的成员是序列，并且按指定表达式有序，对序列成员做归并合并成一个新序列
+ * A.merge(xi,…)
  * @author RunQian
  *
  */
@@ -14,8 +14,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CursorUtil;
 
 /**
- * еĳԱα꣬Ұָʽ򣬶α鲢ϲһα
- * CS.merge(xi,)
+ * 序列的成员是游标，并且按指定表达式有序，对游标序列做归并合并成一个新游标
+ * CS.merge(xi,…)
  * @author RunQian
  *
  */
@@ -62,7 +62,7 @@ public class Mergex extends SequenceFunction {
 
 		Expression []exps = null;
 		if (param == null) {
-		} else if (param.isLeaf()) { // ֻһ
+		} else if (param.isLeaf()) { // 只有一个参数
 			exps = new Expression[]{ param.getLeafExpression() };
 		} else if (param.getType() == IParam.Comma) { // ,
 			int size = param.getSubSize();
@@ -9,7 +9,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Сֵ
+ * 求序列最小值
  * A.min() A.min(x)
  * @author RunQian
  *
@@ -4,8 +4,8 @@ import com.scudata.dm.Context;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * ԪصСֵ
- * A.minif(Ai:xi,)
+ * 计算序列中满足给定条件的元素的最小值
+ * A.minif(Ai:xi,…)
  * @author RunQian
  *
  */
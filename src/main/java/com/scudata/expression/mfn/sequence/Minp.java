@@ -9,7 +9,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡʹʽֵСļ¼
+ * 取使表达式返回值最小的记录
  * A.minp(x)
  * @author RunQian
  *
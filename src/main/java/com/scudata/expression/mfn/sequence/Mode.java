@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡгִĳԱ
+ * 取序列中出现次数最多的成员
  * A.mode()
  * @author RunQian
  *
@@ -11,14 +11,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ޸еĳԱֵֶ
- * A.modify(k,x) T.modify(k,xi:Fi,) T.modify(k:A,xi:Fi,)
+ * 修改序列的成员或者序表的字段值
+ * A.modify(k,x) T.modify(k,xi:Fi,…) T.modify(k:A,xi:Fi,…)
  * @author RunQian
  *
  */
 public class Modify extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
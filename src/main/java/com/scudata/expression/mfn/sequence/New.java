@@ -6,8 +6,8 @@ import com.scudata.expression.ParamInfo2;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * һ
- * A.new(xi:Fi,)
+ * 针对序列做计算产生一个新序表
+ * A.new(xi:Fi,…)
  * @author RunQian
  *
  */
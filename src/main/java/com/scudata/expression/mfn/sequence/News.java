@@ -10,14 +10,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * еֶ㣬ϲ
- * A.news(X;xi:Fi,)
+ * 针对排列的序列字段做计算，合并生成新序表
+ * A.news(X;xi:Fi,…)
  * @author RunQian
  *
  */
 public class News extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 	}
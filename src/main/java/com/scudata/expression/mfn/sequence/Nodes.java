@@ -11,14 +11,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ݹѯõָ¼
+ * 递归查询在外键中引用到指定记录的数据
  * P.nodes(F,r,n)
  * @author RunQian
  *
  */
 public class Nodes extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
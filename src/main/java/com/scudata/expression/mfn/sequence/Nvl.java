@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡеһǿղҲǿմԪ
+ * 取序列中第一个非空并且不是空串的元素
  * A.nvl()
  * @author RunQian
  *
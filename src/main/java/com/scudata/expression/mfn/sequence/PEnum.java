@@ -7,14 +7,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡֵöٷһ
+ * 取值在枚举分组中属于哪一组
  * E.penum(y)
  * @author RunQian
  *
  */
 public class PEnum extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
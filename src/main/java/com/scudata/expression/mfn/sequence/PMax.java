@@ -9,7 +9,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡԪص
+ * 取序列最大的元素的序号
  * A.pmax() A.pmax(x)
  * @author RunQian
  *
@@ -9,7 +9,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡСԪص
+ * 取序列最小的元素的序号
  * A.pmin() A.pmin(x)
  * @author RunQian
  *
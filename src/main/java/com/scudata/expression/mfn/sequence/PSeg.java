@@ -10,14 +10,14 @@ import com.scudata.resources.EngineMessage;
 
 // A.pseg(x,y)
 /**
- * ȡָԪеһ
+ * 取指定元素属于有序序列的哪一段
  * A.pseg(x) A.pseg(x,y)
  * @author RunQian
  *
  */
 public class PSeg extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -9,8 +9,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡָԪص
- * A.pselect(x) A.pselect(xk:yk,)
+ * 取序列中满足指定条件的元素的序号
+ * A.pselect(x) A.pselect(xk:yk,…)
  * @author RunQian
  *
  */
@@ -9,7 +9,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡԪԭе
+ * 取序列排序后的元素在原序列的中序号
  * A.psort() A.psort(x) A.psort(xi:di,..)
  * @author RunQian
  *
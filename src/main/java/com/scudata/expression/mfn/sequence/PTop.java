@@ -9,14 +9,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡǰnСԱ
- * A.ptop(n) A.ptop(n,x,)
+ * 取序列前n个最小成员的序号
+ * A.ptop(n) A.ptop(n,x,…)
  * @author RunQian
  *
  */
 public class PTop extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -10,14 +10,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ת
- * A.pivot(g:G,;F,V;Ni:N'i,)
+ * 对排列做行列转换
+ * A.pivot(g:G,…;F,V;Ni:N'i,…)
  * @author RunQian
  *
  */
 public class Pivot extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
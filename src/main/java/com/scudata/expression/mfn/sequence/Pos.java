@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡָԪеλ
+ * 取指定元素在序列中的位置
  * A.pos(x), A.pos(x, start)
  * @author RunQian
  *
@@ -19,7 +19,7 @@ public class Pos extends SequenceFunction {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -8,14 +8,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ָλãλУתе
+ * 把指定位置（或位置序列）转成序列的序号
  * A.p(i), A.p(p)
  * @author RunQian
  *
  */
 public class PosConvert extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
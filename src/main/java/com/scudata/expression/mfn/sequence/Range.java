@@ -9,7 +9,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ƽֳnΣȡkηأʡk򷵻е
+ * 平均分成n段，取出第k段返回；省略k则返回所有的序列
  * A.range(k:n)
  * @author WangXiaoJun
  *
@@ -88,7 +88,7 @@ public class Range extends SequenceFunction {
 		}
 	}
 	
-	// ƽֳsegCountȡsegSeq
+	// 把序列平均分成segCount段取第segSeq段
 	private Sequence getSeg(Sequence sequence, int segSeq, int segCount) {
 		int len = sequence.length();
 		int avg = len / segCount;
@@ -101,7 +101,7 @@ public class Range extends SequenceFunction {
 			}
 		}
 		
-		// ǰĿÿζһ
+		// 前面的块每段多一
 		int mod = len % segCount;
 		int end = segSeq * avg;
 		int start = end - avg;
@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡеÿԪصس
+ * 取序列的每个元素的排名返回成新序列
  * A.ranks(), A.ranks(x)
  * @author RunQian
  *
@@ -11,10 +11,10 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ֶָΣֵֶֶת
+ * 用指定序列填充序表的字段，或把字段名和字段值组成序列转成序表
  * T.record(A,k)
- * A.record() Aֵֶɵ
- * A.record(n) Aֵֶֶ
+ * A.record() A是字段值序列组成的序列
+ * A.record(n) A是字段名和字段值组成序列
  * @author RunQian
  *
  */
@@ -16,15 +16,15 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ģʽƥ䣬ввַس
+ * 对序列做模式匹配，如果有拆出项则进行拆分返回成序表
  * A.regex(rs,F)
- * A.regex(rs,F;Fi,)
+ * A.regex(rs,F;Fi,…)
  * @author RunQian
  *
  */
 public class Regex extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * еԪ
+ * 清空序列的元素
  * A.reset()
  * @author RunQian
  *
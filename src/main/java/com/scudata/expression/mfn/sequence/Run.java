@@ -6,8 +6,8 @@ import com.scudata.expression.ParamInfo2;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * мʽб
- * A.run(xi,) P.run(xi:Fi:,)
+ * 针对序列计算表达式，返回序列本身
+ * A.run(xi,…) P.run(xi:Fi:,…)
  * @author RunQian
  *
  */
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * תеԪԪ
+ * 倒转序列的元素组成新元素
  * A.rvs()
  * @author RunQian
  *
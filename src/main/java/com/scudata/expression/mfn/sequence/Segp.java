@@ -9,14 +9,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * yA.(x)ţͨŻȡеĶӦԱ
+ * 计算y在序列A.(x)中所属的区段序号，通过区段序号获取序列中的对应成员
  * A.segp(x,y)
  * @author RunQian
  *
  */
 public class Segp extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -8,8 +8,8 @@ import com.scudata.expression.ParamInfo2;
 import com.scudata.expression.SequenceFunction;
 
 /**
- * ȡָԪµ
- * A.select(x) A.select(xk:yk,)
+ * 取序列中满足指定条件的元素生成新的序列
+ * A.select(x) A.select(xk:yk,…)
  * @author RunQian
  *
  */
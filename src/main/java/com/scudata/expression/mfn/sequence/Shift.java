@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ƳָԪأúԪ
+ * 移除序列指定区间的元素，用后面的元素填充
  * A.shift(i,s)
  * @author RunQian
  *
@@ -10,8 +10,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * 򣬷
- * A.sort(x) A.sort(xi:di,..) A.sort(;loc)
+ * 对序列做排序，返回排序后的序列
+ * A.sort(x) A.sort(xi:di,..) A.sort(…;loc)
  * @author RunQian
  *
  */
@@ -8,14 +8,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ָȺλȡеĳԱµ
- * A.step(m,ki,)
+ * 按照指定跨度和相对位置取序列的成员组成新的序列
+ * A.step(m,ki,…)
  * @author RunQian
  *
  */
 public class Step extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -8,7 +8,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ԫ
+ * 对序列元素求和
  * A.sum(), A.sum(x)
  * @author RunQian
  *
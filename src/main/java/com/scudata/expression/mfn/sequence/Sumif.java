@@ -12,8 +12,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * Ԫصĺ
- * A.sumif(Ai:xi,)
+ * 计算序列中满足给定条件的元素的和
+ * A.sumif(Ai:xi,…)
  * @author RunQian
  *
  */
@@ -22,7 +22,7 @@ public class Sumif extends SequenceFunction {
 		return posSelect("sumif", srcSequence, param, option, ctx).sum();
 	}
 
-	// Ai:xi,       A(Ai.pos@a(xi)^)
+	// Ai:xi,…       A(Ai.pos@a(xi)^…)
 	static Sequence posSelect(String funcName, Sequence srcSeries, IParam param, String option, Context ctx) {
 		if (option == null || option.indexOf('b') == -1) {
 			option = "a";
@@ -9,14 +9,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ָλãλУԪγз
+ * 交换序列指定位置（或位置序列）的元素形成新序列返回
  * A.swap(p1, p2)
  * @author RunQian
  *
  */
 public class Swap extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
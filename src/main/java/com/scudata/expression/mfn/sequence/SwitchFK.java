@@ -13,8 +13,8 @@ import com.scudata.resources.EngineMessage;
 
 // 
 /**
- * еֵֶɶӦάļ¼ã߰Ѽ¼ñɼ¼ֵ
- * A.switch(Fi,Ai:x;) A.switch(Fi;...)
+ * 把排列的外键字段值变成对应的维表的记录的引用，或者把记录的引用变成记录的主键值
+ * A.switch(Fi,Ai:x;…) A.switch(Fi;...)
  * @author RunQian
  *
  */
@@ -9,7 +9,7 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡеĳγԱ
+ * 取序列的某段成员组成新序列
  * A.to(a) A.to(a,b) A.to@z(i,n)
  * @author WangXiaoJun
  *
@@ -149,7 +149,7 @@ public class To extends SequenceFunction {
 		}
 		
 		if (start <= end) {
-			// ƽֳendΣȡstart
+			// 平均分成end段，取出第start
 			if (option != null && option.indexOf('z') != -1) {
 				return getSeg(srcSequence, start, end);
 			}
@@ -172,7 +172,7 @@ public class To extends SequenceFunction {
 		}
 	}
 	
-	// ƽֳsegCountȡsegSeq
+	// 把序列平均分成segCount段取第segSeq段
 	private Sequence getSeg(Sequence sequence, int segSeq, int segCount) {
 		int len = sequence.length();
 		int avg = len / segCount;
@@ -185,7 +185,7 @@ public class To extends SequenceFunction {
 			}
 		}
 		
-		// ǰĿÿζһ
+		// 前面的块每段多一
 		int mod = len % segCount;
 		int end = segSeq * avg;
 		int start = end - avg;
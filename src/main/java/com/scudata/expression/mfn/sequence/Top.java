@@ -9,14 +9,14 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡǰnСĳԱ
- * A.top(n) A.top(n,x) A.top(n,y,x) A.top(n;x,)
+ * 取序列前n个最小的成员
+ * A.top(n) A.top(n,x) A.top(n,y,x) A.top(n;x,…)
  * @author WangXiaoJun
  *
  */
 public class Top extends SequenceFunction {
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (param == null) {
@@ -8,8 +8,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * гԱĲ
- * A.union() A.union(x)Aе
+ * 计算序列成员的并列
+ * A.union() A.union(x)，A是序列的序列
  * @author RunQian
  *
  */
@@ -8,8 +8,8 @@ import com.scudata.expression.SequenceFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * гԱ
- * A.xunion() A.xunion(x)Aе
+ * 计算序列成员的异或列
+ * A.xunion() A.xunion(x)，A是序列的序列
  * @author RunQian
  *
  */
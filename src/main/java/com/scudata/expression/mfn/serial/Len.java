@@ -5,7 +5,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.SerialFunction;
 
 /**
- * ȡźŵĳ
+ * 取排号的长度
  * k.len()
  * @author RunQian
  *
@@ -8,8 +8,8 @@ import com.scudata.expression.SerialFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡźŵĳ
- * k.sbs(a:b,)
+ * 取排号的长度
+ * k.sbs(a:b,…)
  * @author RunQian
  *
  */
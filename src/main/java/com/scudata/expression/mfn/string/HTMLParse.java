@@ -10,8 +10,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.HTMLUtil;
 
 /**
- * ȡHTMLָtagµָŵıس
- * s.htmlparse(tag:i:j,)
+ * 取出HTML串中指定tag下的指定序号的文本，返回成序列
+ * s.htmlparse(tag:i:j,…)
  * @author RunQian
  *
  */
@@ -17,8 +17,8 @@ import com.scudata.expression.StringFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ѷάַ
- * S.import(F:type:fmt,; s)
+ * 把二维表字符串导成序表
+ * S.import(F:type:fmt,…; s)
  * @author RunQian
  *
  */
@@ -13,7 +13,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ָԻ߰Զ{"name", "value"}Ϊṹ
+ * 读出指定属性或者把所有属性读成以{"name", "value"}为结构的序表
  * xs.property(n,v) xs.property()
  * @author RunQian
  *
@@ -11,7 +11,7 @@ import com.scudata.expression.StringFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ʽԴƥ䣬زɵУƥ䷵ؿ
+ * 用正则表达式对串做匹配，返回拆出项组成的序列，不匹配返回空
  * s.regex(rs)
  * @author RunQian
  *
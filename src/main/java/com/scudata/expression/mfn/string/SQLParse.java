@@ -8,7 +8,7 @@ import com.scudata.expression.StringFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * SQLĸֹз
+ * 拆分SQL语句的各个部分构成序列返回
  * sql.sqlparse() sql.sqlparse(part)
  * @author RunQian
  *
@@ -8,7 +8,7 @@ import com.scudata.expression.StringFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ׼SQLеĺָݿĸʽձ
+ * 将标准SQL中的函数翻译成指定数据库的格式，参照表在配置中
  * sql.sqltranslate(dbtype)
  * @author RunQian
  *
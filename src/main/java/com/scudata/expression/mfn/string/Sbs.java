@@ -8,8 +8,8 @@ import com.scudata.expression.StringFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ȡַָλõַַ
- * s.sbs(a:b,)
+ * 取字符串指定位置的字符组成新字符串
+ * s.sbs(a:b,…)
  * @author RunQian
  *
  */
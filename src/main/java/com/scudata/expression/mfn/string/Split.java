@@ -8,7 +8,7 @@ import com.scudata.expression.StringFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ַָָУûָָɵַɵ
+ * 将字符串以指定分隔符拆成序列，没有指定分隔符则拆成单字符组成的序列
  * s.split(d)
  * @author RunQian
  *
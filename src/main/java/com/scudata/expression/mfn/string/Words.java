@@ -8,7 +8,7 @@ import com.scudata.expression.StringFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ַеӢﵥʲַз
+ * 将字符串中的英语单词拆出成字符串序列返回
  * s.words()
  * @author RunQian
  *
@@ -193,7 +193,7 @@ public class Words extends StringFunction {
 		return series;
 	}
 
-	// ֡.:'-''/'
+	// 数字、‘.’、‘:’、'-'、'/'
 	private static boolean isDigit(char c, boolean popt) {
 		if (isDigit(c)) {
 			return true;
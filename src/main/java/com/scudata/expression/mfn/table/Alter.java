@@ -11,8 +11,8 @@ import com.scudata.expression.TableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ݽṹ
- * T.alter(Fi,;Fi,)
+ * 更改序表的数据结构
+ * T.alter(Fi,…;F’i,…)
  * @author RunQian
  *
  */
@@ -26,7 +26,7 @@ public class Alter extends TableFunction {
 		DataStruct ds = srcTable.dataStruct();
 		String []oldFields = ds.getFieldNames();
 		int oldCount = oldFields.length;
-		int []state = new int[oldCount]; // -1ʾɾ1ʾѡ
+		int []state = new int[oldCount]; // -1表示删除、1表示选出
 		ArrayList<String> newFieldList = new ArrayList<String>(oldCount);
 		
 		IParam oldParam;
@@ -10,7 +10,7 @@ import com.scudata.parallel.ClusterMemoryTable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ѱڱƳɼȺдڱ
+ * 把本地内表复制成集群复写内表
  * T.dup(h)
  * @author RunQian
  *
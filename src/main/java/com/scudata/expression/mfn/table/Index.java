@@ -7,7 +7,7 @@ import com.scudata.expression.TableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ڴԴ
+ * 给序表按主键创建内存索引，返回源序表
  * T.index(n)
  * @author RunQian
  *
@@ -8,8 +8,8 @@ import com.scudata.expression.TableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * 
- * T.keys(Ki,)
+ * 设置序表的主键
+ * T.keys(Ki,…)
  * @author RunQian
  *
  */
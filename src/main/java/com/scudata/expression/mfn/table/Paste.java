@@ -10,8 +10,8 @@ import com.scudata.expression.TableFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ƹеֵֶǰ
- * T.paste(Ai:Fi,;k)
+ * 复制给定的排列的字段值到当前序表
+ * T.paste(Ai:Fi,…;k)
  * @author RunQian
  *
  */
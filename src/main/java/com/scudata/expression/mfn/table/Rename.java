@@ -5,8 +5,8 @@ import com.scudata.expression.ParamInfo2;
 import com.scudata.expression.TableFunction;
 
 /**
- * ֶν
- * T.rename(F:F',)
+ * 对序表的字段进行重命名
+ * T.rename(F:F',…)
  * @author RunQian
  *
  */
@@ -7,7 +7,7 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * 鵵ָ·鵵·дռõĿռСѯٶȻ
+ * 归档指定路径，归档后路径不可再写，占用的空间会变小，查询速度会变快
  * v.archive(p)
  * @author RunQian
  *
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.VDBFunction;
 
 /**
- * 
+ * 启动事务
  * v.begin()
  * @author RunQian
  *
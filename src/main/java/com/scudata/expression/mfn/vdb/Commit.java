@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.VDBFunction;
 
 /**
- * ύ
+ * 提交并结束事务
  * v.commit()
  * @author RunQian
  *
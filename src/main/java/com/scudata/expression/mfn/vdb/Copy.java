@@ -9,7 +9,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.vdb.IVS;
 
 /**
- * ·һ·
+ * 复制路径到另一个路径下
  * h.copy(ps,pd:F,h')
  * @author RunQian
  *
@@ -8,7 +8,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.vdb.IVS;
 
 /**
- * ·ύʱ̣·ڷؿ
+ * 返回路径的最新提交时刻，路径不存在返回空
  * h.date(p)
  * @author RunQian
  *
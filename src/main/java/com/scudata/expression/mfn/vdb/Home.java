@@ -7,7 +7,7 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * õǰĿ¼дڴ·
+ * 设置当前目录，后续读写操作将相对于此路径
  * h.home(p)
  * @author RunQian
  *
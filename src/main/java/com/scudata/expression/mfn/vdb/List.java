@@ -7,7 +7,7 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * гָ·µļس
+ * 列出指定路径下的子文件，返回成序列
  * h.list(p)
  * @author RunQian
  *
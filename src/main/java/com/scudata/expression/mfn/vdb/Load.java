@@ -7,7 +7,7 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ָ·ı
+ * 读指定路径的表单的数据
  * h.load(p)
  * @author RunQian
  *
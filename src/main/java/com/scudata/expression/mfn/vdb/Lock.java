@@ -7,7 +7,7 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * סָ·
+ * 锁住指定路径
  * h.lock(p)
  * @author RunQian
  *
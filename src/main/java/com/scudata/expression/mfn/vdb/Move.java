@@ -8,7 +8,7 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ɾĿ¼߰Ŀ¼ƶһĿ¼
+ * 删除目录或者把目录移动到另一个目录下
  * h.move(ps,pd:F)
  * @author RunQian
  *
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.VSFunction;
 
 /**
- * صǰ·Ľֵ
+ * 返回当前路径的节值
  * h.path()
  * @author RunQian
  *
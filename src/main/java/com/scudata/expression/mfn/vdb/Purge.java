@@ -11,7 +11,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.vdb.Library;
 
 /**
- * ݿݣʹٶȸ
+ * 整理数据库数据，使访问速度更快
  * v.purge()
  * @author RunQian
  *
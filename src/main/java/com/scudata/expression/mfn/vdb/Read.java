@@ -12,8 +12,8 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ݿжȡֶ׷ӵָ
- * h.read(A:xp,Fi,;w)
+ * 从数据库中读取其它字段追加到指定排列上
+ * h.read(A:xp,Fi,…;w)
  * @author RunQian
  *
  */
@@ -8,7 +8,7 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ·
+ * 重新命名路径名
  * h.rename(p,F)
  * @author RunQian
  *
@@ -10,8 +10,8 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * 
- * h.retrieve(F:v,;F,;w)
+ * 根据条件检索数据
+ * h.retrieve(F:v,…;F’,…;w’)
  * @author RunQian
  *
  */
@@ -79,7 +79,7 @@ public class Retrive extends VSFunction {
 			for (int i = 0; i < size; ++i) {
 				if (exps[i] != null) {
 					dirValues[i] = exps[i].calculate(ctx);
-					valueSigns[i] = true; // ûʡĿ¼ֵ
+					valueSigns[i] = true; // 没有省略目录值参数
 				}
 			}
 		}
@@ -4,7 +4,7 @@ import com.scudata.dm.Context;
 import com.scudata.expression.VDBFunction;
 
 /**
- * ع
+ * 回滚并结束事务
  * @author RunQian
  *
  */
@@ -8,7 +8,7 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * д뵽ָ·ı
+ * 把数据写入到指定路径的表单
  * h.save(x,p,F)
  * @author RunQian
  *
@@ -50,7 +50,7 @@ public class Save extends VSFunction {
 			Object value = sub0.getLeafExpression().calculate(ctx);
 			return vs.save(value, path, name);
 		} else {
-			// ûи򴴽Ŀ¼
+			// 没有给出表单内容则创建目录
 			return vs.makeDir(path, name);
 		}
 	}
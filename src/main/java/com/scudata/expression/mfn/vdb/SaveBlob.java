@@ -9,7 +9,7 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * 渽ͨͼƬ
+ * 保存附件，通常是图片
  * h.saveblob(o,n;p:F)
  * @author RunQian
  *
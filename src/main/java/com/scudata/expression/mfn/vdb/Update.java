@@ -10,8 +10,8 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ҳĵݺдݵֵֶ
- * h.update(F:v,;x:F,;w)
+ * 找出满足条件的单据后改写单据的字段值
+ * h.update(F:v,…;x:F,…;w)
  * @author RunQian
  *
  */
@@ -74,7 +74,7 @@ public class Update extends VSFunction {
 			for (int i = 0; i < size; ++i) {
 				if (exps[i] != null) {
 					dirValues[i] = exps[i].calculate(ctx);
-					valueSigns[i] = true; // ûʡĿ¼ֵ
+					valueSigns[i] = true; // 没有省略目录值参数
 				}
 			}
 		}
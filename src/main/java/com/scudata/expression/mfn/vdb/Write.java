@@ -11,8 +11,8 @@ import com.scudata.expression.VSFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * еֶָд뵽ɾı
- * h.write(A:xp,x:F,;w)
+ * 把排列的指定字段写入到表单或删除满足条件的表单
+ * h.write(A:xp,x:F,…;w)
  * @author RunQian
  *
  */
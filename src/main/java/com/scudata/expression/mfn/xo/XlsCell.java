@@ -16,20 +16,20 @@ import com.scudata.resources.AppMessage;
 import com.scudata.resources.EngineMessage;
 
 /**
- * xo.xlscell(a:b,s;t)ҳsĸa봮ttǻس/tabָĴеУֱкУsʡΪһҳxo@r@wʽ
- * tʱabĸıʽأֻaֻaa:βa:bʡԱʾҳsΪt
+ * 函数xo.xlscell(a:b,s;t)。向页s的格a处填入串t，t是回车/tab分隔的串或序列的序列，分别填入相邻行和列中；s省略为第一页，xo不能以@r@w方式打开
+ * 无t参数时，读出从a到b的格文本形式串返回，只有a只读a格，a:读到结尾；a:b省略表示改页s的名称为t。
  * 
- * @i вʽ룬ȱʡǸʽ
- * @w ʱسɸֵеС
- * @p @wתãекУǴʱ
- * @n ȡʱtrim@wʱѿմnull
- * @g ͼƬ:btǸblobĿǰ֧jpg/pngʽ
+ * @i 行插入式填入，缺省是覆盖式
+ * @w 读出时返回成格值的序列的序列。
+ * @p @w加转置，序列的序列先列后行，是串时忽略
+ * @n 取出格文字时做trim，@w时把空串读成null
+ * @g 读出与设置图片，无:b参数，t是个blob，目前支持jpg/png格式
  * 
  *
  */
 public class XlsCell extends XOFunction {
 	/**
-	 * 
+	 * 计算
 	 */
 	public Object calculate(Context ctx) {
 		IParam param = this.param;
@@ -40,9 +40,9 @@ public class XlsCell extends XOFunction {
 		}
 
 		IParam sheetParam;
-		Object content = null; // ǴҲͼƬ
+		Object content = null; // 可能是串也可能是图片
 		if (param.getType() == IParam.Semicolon) {
-			if (param.getSubSize() != 2) { // һ֮ǰ
+			if (param.getSubSize() != 2) { // 兼容一下之前的
 				MessageManager mm = EngineMessage.get();
 				throw new RQException("xlscell"
 						+ mm.getMessage("function.invalidParam"));
@@ -57,7 +57,7 @@ public class XlsCell extends XOFunction {
 		}
 		IParam param0;
 		IParam param1;
-		if (sheetParam.isLeaf() || sheetParam.getType() == IParam.Colon) { // ʡs
+		if (sheetParam.isLeaf() || sheetParam.getType() == IParam.Colon) { // 省略s
 			param0 = sheetParam;
 			param1 = null;
 		} else if (sheetParam.getType() != IParam.Comma
@@ -77,14 +77,14 @@ public class XlsCell extends XOFunction {
 		}
 
 		if (param0 == null) {
-			// ûa:b,sheet
+			// 没有a:b,是sheet改名
 			if (!StringUtils.isValidString(content)) {
 				MessageManager mm = EngineMessage.get();
 				throw new RQException("xlscell"
 						+ mm.getMessage("function.invalidParam"));
 			}
 
-			// sheet
+			// 检查sheet名称
 			ExcelUtils.checkSheetName(content);
 
 			try {
@@ -112,7 +112,7 @@ public class XlsCell extends XOFunction {
 
 			cell1 = (String) val;
 			cell1 = removeQuota(cell1);
-			cell2 = null; // :bûУʾa
+			cell2 = null; // :b都没有，表示a单格子
 		} else {
 			IParam sub = param0.getSub(0);
 			if (sub == null) {
@@ -141,7 +141,7 @@ public class XlsCell extends XOFunction {
 				cell2 = (String) val;
 				cell2 = removeQuota(cell2);
 			} else {
-				cell2 = null; // a:ʾȡβ
+				cell2 = null; // a:，表示取到行尾
 			}
 		}
 		String opt = option;
@@ -152,13 +152,13 @@ public class XlsCell extends XOFunction {
 		boolean isN = opt != null && opt.indexOf("n") > -1;
 		if (!isW) {
 			if (isP) {
-				// ѡ@{0}ֻܺѡ@wͬʱʹá
+				// 选项@{0}只能和选项@w同时使用。
 				throw new RQException(AppMessage.get().getMessage(
 						"xlsimport.pnnotw", "p"));
 			}
 		}
 		Object matrix;
-		if (content == null || "".equals(content.toString().trim())) { // tǿյģΪcΪ
+		if (content == null || "".equals(content.toString().trim())) { // 如果t是空的，就认为把c置为空
 			matrix = null;
 		} else {
 			if (isGraph) {
@@ -168,7 +168,7 @@ public class XlsCell extends XOFunction {
 							+ mm.getMessage("function.paramTypeError"));
 				}
 				matrix = content;
-			} else if (content instanceof Sequence) { // е
+			} else if (content instanceof Sequence) { // 序列的序列
 				matrix = content;
 			} else if (content instanceof BaseRecord) {
 				Sequence seq = new Sequence();
@@ -224,7 +224,7 @@ public class XlsCell extends XOFunction {
 	}
 
 	/**
-	 * ɾӵ
+	 * 删除格子的引号
 	 * 
 	 * @param cell
 	 * @return
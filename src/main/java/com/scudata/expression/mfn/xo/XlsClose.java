@@ -7,12 +7,12 @@ import com.scudata.expression.XOFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * xo.xlsclose() @r@wʽ򿪵ExcelҪر
+ * 函数xo.xlsclose()。 以@r@w方式打开的Excel对象需要关闭
  *
  */
 public class XlsClose extends XOFunction {
 	/**
-	 * 
+	 * 计算
 	 */
 	public Object calculate(Context ctx) {
 		if (param != null) {
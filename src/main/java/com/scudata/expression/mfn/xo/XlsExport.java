@@ -17,15 +17,15 @@ import com.scudata.expression.XOFunction;
 import com.scudata.resources.EngineMessage;
 
 /**
- * xo.xlsexport(A,x:Fi,..;s) sheetдУs¼ӣxo@wʱAα
+ * xo.xlsexport(A,x:Fi,..;s) 向sheet中写入序列，s不存在则新加，xo以@w打开时A可是游标
  * 
- * @a sѴʱøʽ׷дȱʡд
- * @t б⣬ҳʱΪһݵǱ
+ * @a s已存在时延用格式追加写，缺省将覆盖写
+ * @t 有标题，页上有内容时认为最后一个有内容的行是标题
  */
 public class XlsExport extends XOFunction {
 
 	/**
-	 * 
+	 * 计算
 	 */
 	public Object calculate(Context ctx) {
 		if (param == null) {
@@ -109,7 +109,7 @@ public class XlsExport extends XOFunction {
 			s = param1.getLeafExpression().calculate(ctx);
 		}
 
-		// sheet
+		// 检查sheet名称
 		ExcelUtils.checkSheetName(s);
 
 		String opt = option;
@@ -10,16 +10,16 @@ import com.scudata.resources.AppMessage;
 import com.scudata.resources.EngineMessage;
 
 /**
- * xo.xlsimport(Fi,..;s,b:e) ҳsȡ
+ * xo.xlsimport(Fi,..;s,b:e) 从页s中取出序表
  * 
- * @t Ǳ⣬bʱΪb
- * @c سα꣬xo@r򿪣ʱeǸ
- * @b ȥǰĿհУ@cʱ֧
+ * @t 首行是标题，有b参数时认为标题在b行
+ * @c 返回成游标，xo必须用@r打开，此时e不能是负数
+ * @b 去除前后的空白行，@c时不支持
  */
 public class XlsImport extends XOFunction {
 
 	/**
-	 * 
+	 * 计算
 	 */
 	public Object calculate(Context ctx) {
 		String opt = option;
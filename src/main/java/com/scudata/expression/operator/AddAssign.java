@@ -7,7 +7,7 @@ import com.scudata.expression.Operator;
 import com.scudata.resources.EngineMessage;
 
 /**
- * +=
+ * 运算符：+=
  * @author RunQian
  *
  */
@@ -17,7 +17,7 @@ public class AddAssign extends Operator {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (left == null) {
@@ -37,7 +37,7 @@ public class AddAssign extends Operator {
 	}
 	
 	/**
-	 * жǷԼȫֵиֵʱֻһм
+	 * 判断是否可以计算全部的值，有赋值运算时只能一行行计算
 	 * @return
 	 */
 	public boolean canCalculateAll() {
@@ -8,8 +8,8 @@ import com.scudata.expression.Operator;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ,
- * a=1,b=3,c=6һʽֵ
+ * 运算符：,
+ * a=1,b=3,c=6返回最后一个表达式的值
  * @author RunQian
  *
  */
@@ -23,7 +23,7 @@ public class Comma extends Operator {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (left == null) {
@@ -44,12 +44,24 @@ public class Comma extends Operator {
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
 		left.calculateAll(ctx);
 		return right.calculateAll(ctx);
 	}
+	
+	/**
+	 * 计算signArray中取值为sign的行
+	 * @param ctx
+	 * @param signArray 行标识数组
+	 * @param sign 标识
+	 * @return IArray
+	 */
+	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
+		left.calculateAll(ctx, signArray, sign);
+		return right.calculateAll(ctx, signArray, sign);
+	}
 }
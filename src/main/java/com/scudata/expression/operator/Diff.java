@@ -10,8 +10,8 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * \
- * 
+ * 运算符：\
+ * 序列求差、数整除
  * @author RunQian
  *
  */
@@ -21,7 +21,7 @@ public class Diff extends Operator {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (left == null) {
@@ -55,17 +55,17 @@ public class Diff extends Operator {
 				o2 = s2;
 			}
 
-			// 
+			// 序列求差
 			return ((Sequence)o1).diff((Sequence)o2, false);
 		} else {
-			// 
+			// 数整除
 			return Variant.intDivide(o1, o2);
 		}
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -75,10 +75,10 @@ public class Diff extends Operator {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
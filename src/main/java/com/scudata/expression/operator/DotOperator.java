@@ -14,7 +14,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * .
+ * 点运算符：.
  * A.f()
  * @author WangXiaoJun
  *
@@ -25,7 +25,7 @@ public class DotOperator extends Operator {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (left == null) {
@@ -41,8 +41,8 @@ public class DotOperator extends Operator {
 	}
 	
 	public Node optimize(Context ctx) {
-		// Ҳຯ޸ֵгȲ
-		// [1,2,3].contain(n)
+		// 如果右侧函数不会修改左侧对象的值并且左侧对象是序列常量则可以先产生序列
+		// 比如[1,2,3].contain(n)
 		if (!right.ifModifySequence()) {
 			left = left.optimize(ctx, true);
 			right = right.optimize(ctx);
@@ -53,14 +53,14 @@ public class DotOperator extends Operator {
 	}
 
 	/**
-	 * ֵ
-	 * @param ctx 
-	 * @return 
+	 * 计算左侧对象的值
+	 * @param ctx 计算上下文
+	 * @return 左侧对象
 	 */
 	private Object getLeftObject(Context ctx) {
 		Object obj = left.calculate(ctx);
 		
-		// n.f()fкʱnͳto(n)
+		// n.f()当f是序列函数时把n解释成to(n)
 		if (obj instanceof Number && right.isSequenceFunction()) {
 			int n = ((Number)obj).intValue();
 			if (n > 0) {
@@ -151,8 +151,8 @@ public class DotOperator extends Operator {
 	}
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -162,10 +162,10 @@ public class DotOperator extends Operator {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -174,9 +174,9 @@ public class DotOperator extends Operator {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -201,9 +201,9 @@ public class DotOperator extends Operator {
 	}
 	
 	/**
-	 * жϸֵΧǷ㵱ǰʽ
-	 * @param ctx 
-	 * @return ȡֵRelation. -1ֵΧûֵ0ֵΧֵ1ֵΧֵ
+	 * 判断给定的值域范围是否满足当前条件表达式
+	 * @param ctx 计算上行文
+	 * @return 取值参照Relation. -1：值域范围内没有满足条件的值，0：值域范围内有满足条件的值，1：值域范围的值都满足条件
 	 */
 	public int isValueRangeMatch(Context ctx) {
 		right.setLeft(left);
@@ -222,8 +222,8 @@ public class DotOperator extends Operator {
 	}
 	
 	/**
-	 * ʽȡֵΧ
-	 * @param ctx 
+	 * 计算表达式的取值范围
+	 * @param ctx 计算上行文
 	 * @return
 	 */
 	public IArray calculateRange(Context ctx) {
@@ -232,8 +232,8 @@ public class DotOperator extends Operator {
 	}
 	
 	/**
-	 * ؽڵǷ񵥵
-	 * @return trueǵģfalse
+	 * 返回节点是否单调递增的
+	 * @return true：是单调递增的，false：不是
 	 */
 	public boolean isMonotone() {
 		return left.isMonotone() && right.isMonotone();
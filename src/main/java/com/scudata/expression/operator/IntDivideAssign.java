@@ -9,7 +9,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ֵ\=
+ * 除法赋值运算符：\=
  * @author RunQian
  *
  */
@@ -19,7 +19,7 @@ public class IntDivideAssign extends Operator {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (left == null) {
@@ -63,7 +63,7 @@ public class IntDivideAssign extends Operator {
 	}
 
 	/**
-	 * жǷԼȫֵиֵʱֻһм
+	 * 判断是否可以计算全部的值，有赋值运算时只能一行行计算
 	 * @return
 	 */
 	public boolean canCalculateAll() {
@@ -8,8 +8,8 @@ import com.scudata.expression.Operator;
 import com.scudata.resources.EngineMessage;
 
 /**
- * %%
- * гԱȡ
+ * 运算符：%%
+ * 序列成员取余
  * @author RunQian
  *
  */
@@ -19,7 +19,7 @@ public class MemMod extends Operator {
 	}
 	
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (left == null) {
@@ -11,8 +11,8 @@ import com.scudata.util.CursorUtil;
 import com.scudata.util.Variant;
 
 /**
- * %
- * ȡ
+ * 运算符：%
+ * 取余或序列异或
  * @author RunQian
  *
  */
@@ -22,7 +22,7 @@ public class Mod extends Operator {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (left == null) {
@@ -41,7 +41,7 @@ public class Mod extends Operator {
 		Object o1 = left.calculate(ctx);
 		Object o2 = right.calculate(ctx);
 
-		//УǼ
+		//如果有序列，则是计算序列异或列
 		if (o1 instanceof Sequence) {
 			if (o2 instanceof Sequence) {
 				return CursorUtil.xor((Sequence)o1, (Sequence)o2);
@@ -70,8 +70,8 @@ public class Mod extends Operator {
 
 	
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
@@ -81,10 +81,10 @@ public class Mod extends Operator {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
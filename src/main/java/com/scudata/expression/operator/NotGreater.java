@@ -10,7 +10,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * <=
+ * 运算符：<=
  * @author RunQian
  *
  */
@@ -20,7 +20,7 @@ public class NotGreater extends Relation {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (left == null) {
@@ -44,25 +44,25 @@ public class NotGreater extends Relation {
 	}
 
 	/**
-	 * ȡֵֵıȽϹϵ
-	 * @return Relationеĳ
+	 * 取左值和右值的比较关系
+	 * @return 定义在Relation中的常量
 	 */
 	public int getRelation() {
 		return LESS_EQUAL;
 	}
 
 	/**
-	 * ֵλãȡֵֵıȽϹϵ
-	 * @return Relationеĳ
+	 * 互换左右值的位置，取右值和左值的比较关系
+	 * @return 定义在Relation中的常量
 	 */
 	public int getInverseRelation() {
 		return GREATER_EQUAL;
 	}
 
 	/**
-	 * жϸֵΧǷ㵱ǰʽ
-	 * @param ctx 
-	 * @return ȡֵRelation. -1ֵΧûֵ0ֵΧֵ1ֵΧֵ
+	 * 判断给定的值域范围是否满足当前条件表达式
+	 * @param ctx 计算上行文
+	 * @return 取值参照Relation. -1：值域范围内没有满足条件的值，0：值域范围内有满足条件的值，1：值域范围的值都满足条件
 	 */
 	public int isValueRangeMatch(Context ctx) {
 		IArray leftArray = left.calculateRange(ctx);
@@ -92,7 +92,7 @@ public class NotGreater extends Relation {
 				return cmp2 <= 0 ? PARTICALMATCH : UNMATCH;
 			}
 		} else {
-			// ޷жϵʱж
+			// 无法按块判断的时候则逐条判断
 			return PARTICALMATCH;
 		}
 	}
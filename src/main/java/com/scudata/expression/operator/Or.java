@@ -10,7 +10,7 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ||
+ * 运算符：||
  * @author RunQian
  *
  */
@@ -20,7 +20,7 @@ public class Or extends Relation {
 	}
 
 	/**
-	 * ʽЧԣЧ׳쳣
+	 * 检查表达式的有效性，无效则抛出异常
 	 */
 	public void checkValidity() {
 		if (left == null) {
@@ -50,28 +50,28 @@ public class Or extends Relation {
 	}
 
 	/**
-	 * ȡֵֵıȽϹϵ
-	 * @return Relationеĳ
+	 * 取左值和右值的比较关系
+	 * @return 定义在Relation中的常量
 	 */
 	public int getRelation() {
 		return OR;
 	}
 	
 	/**
-	 * ֵλãȡֵֵıȽϹϵ
-	 * @return Relationеĳ
+	 * 互换左右值的位置，取右值和左值的比较关系
+	 * @return 定义在Relation中的常量
 	 */
 	public int getInverseRelation() {
 		return OR;
 	}
 
 	/**
-	 * еĽ
-	 * @param ctx 
+	 * 计算出所有行的结果
+	 * @param ctx 计算上行文
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx) {
-		// ʽtrueʱҲʽ
+		// 左侧表达式是true时不计算右侧表达式
 		IArray leftResult = left.calculateAll(ctx);
 		if (right instanceof Relation) {
 			return ((Relation)right).calculateOr(ctx, leftResult);
@@ -82,10 +82,10 @@ public class Or extends Relation {
 	}
 	
 	/**
-	 * signArrayȡֵΪsign
+	 * 计算signArray中取值为sign的行
 	 * @param ctx
-	 * @param signArray бʶ
-	 * @param sign ʶ
+	 * @param signArray 行标识数组
+	 * @param sign 标识
 	 * @return IArray
 	 */
 	public IArray calculateAll(Context ctx, IArray signArray, boolean sign) {
@@ -99,9 +99,9 @@ public class Or extends Relation {
 	}
 	
 	/**
-	 * ߼&&Ҳʽ
-	 * @param ctx 
-	 * @param leftResult &&ʽļ
+	 * 计算逻辑与运算符&&的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult &&左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateAnd(Context ctx, IArray leftResult) {
@@ -111,9 +111,9 @@ public class Or extends Relation {
 	}
 	
 	/**
-	 * ߼||Ҳʽ
-	 * @param ctx 
-	 * @param leftResult ||ʽļ
+	 * 计算逻辑或运算符||的右侧表达式
+	 * @param ctx 计算上行文
+	 * @param leftResult ||左侧表达式的计算结果
 	 * @return BoolArray
 	 */
 	public BoolArray calculateOr(Context ctx, IArray leftResult) {
@@ -133,9 +133,9 @@ public class Or extends Relation {
 	}
 
 	/**
-	 * жϸֵΧǷ㵱ǰʽ
-	 * @param ctx 
-	 * @return ȡֵRelation. -1ֵΧûֵ0ֵΧֵ1ֵΧֵ
+	 * 判断给定的值域范围是否满足当前条件表达式
+	 * @param ctx 计算上行文
+	 * @return 取值参照Relation. -1：值域范围内没有满足条件的值，0：值域范围内有满足条件的值，1：值域范围的值都满足条件
 	 */
 	public int isValueRangeMatch(Context ctx) {
 		int result = left.isValueRangeMatch(ctx);
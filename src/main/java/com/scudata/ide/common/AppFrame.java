@@ -52,7 +52,7 @@ public abstract class AppFrame extends JFrame implements IAppFrame {
 			Logger.error(ex);
 		}
 		/* Load custom functions */
-		// ΪraqsoftConfig.xmlúͼ
+		// 改为在raqsoftConfig.xml中配置和加载了
 		// String relativePath = "/config/customFunctions.properties";
 		// try {
 		// InputStream is = GM.getFileInputStream(relativePath);
@@ -206,7 +206,7 @@ public abstract class AppFrame extends JFrame implements IAppFrame {
 	}
 
 	/**
-	 * ȡʱ
+	 * 取发布时间
 	 * 
 	 * @return
 	 */
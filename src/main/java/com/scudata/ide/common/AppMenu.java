@@ -185,7 +185,7 @@ public abstract class AppMenu extends JMenuBar {
 				liveMenu.addSeparator();
 			}
 			rmi = new JMenuItem(sheetTitle);
-			// ˵Ĳ˵Ϊڱ⣬ǲ˵
+			// 活动菜单的菜单名字为窗口标题，不是菜单命令序号
 			rmi.setName(PRE_LIVE_MENU + sheetTitle);
 			rmi.addActionListener(action);
 			liveMenu.add(rmi);
@@ -797,7 +797,7 @@ public abstract class AppMenu extends JMenuBar {
 	}
 
 	/**
-	 * ˵ִеļ
+	 * 菜单执行的监听器
 	 */
 	protected ActionListener menuAction = new ActionListener() {
 		public void actionPerformed(ActionEvent e) {
@@ -814,7 +814,7 @@ public abstract class AppMenu extends JMenuBar {
 	};
 
 	/**
-	 * ִв˵
+	 * 执行菜单命令
 	 */
 	public void executeCmd(short cmdId) {
 		try {
@@ -825,17 +825,17 @@ public abstract class AppMenu extends JMenuBar {
 	}
 
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	protected MessageManager mmSpl = IdeSplMessage.get();
 
 	/**
 	 * 
-	 * ½˵
+	 * 新建集算器菜单项
 	 * 
-	 * @param cmdId  GCSplж
-	 * @param menuId GCSplжĲ˵
-	 * @param isMain Ƿ˵true˵false˵
+	 * @param cmdId  在GCSpl中定义的命令
+	 * @param menuId 在GCSpl中定义的菜单名
+	 * @param isMain 是否菜单，true菜单，false菜单项
 	 * @return
 	 */
 	protected JMenu getSplMenuItem(String menuId, char mneKey, boolean isMain) {
@@ -844,10 +844,10 @@ public abstract class AppMenu extends JMenuBar {
 	}
 
 	/**
-	 * ½˵
+	 * 新建集算器菜单项
 	 * 
-	 * @param cmdId  GCSplж
-	 * @param menuId GCSplжĲ˵
+	 * @param cmdId  在GCSpl中定义的命令
+	 * @param menuId 在GCSpl中定义的菜单名
 	 * @param mneKey The Mnemonic
 	 * @param mask   int, Because ActionEvent.META_MASK is almost not used. This key
 	 *               seems to be only available on Macintosh keyboards. It is used
@@ -860,15 +860,15 @@ public abstract class AppMenu extends JMenuBar {
 	}
 
 	/**
-	 * ½˵
+	 * 新建集算器菜单项
 	 * 
-	 * @param cmdId   GCSplж
-	 * @param menuId  GCSplжĲ˵
+	 * @param cmdId   在GCSpl中定义的命令
+	 * @param menuId  在GCSpl中定义的菜单名
 	 * @param mneKey  The Mnemonic
 	 * @param mask    int, Because ActionEvent.META_MASK is almost not used. This
 	 *                key seems to be only available on Macintosh keyboards. It is
 	 *                used here instead of no accelerator key.
-	 * @param hasIcon ˵Ƿͼ
+	 * @param hasIcon 菜单项是否有图标
 	 * @return
 	 */
 	protected JMenuItem newSplMenuItem(short cmdId, String menuId, char mneKey,
@@ -881,16 +881,16 @@ public abstract class AppMenu extends JMenuBar {
 	}
 
 	/**
-	 * ½˵
+	 * 新建集算器菜单项
 	 * 
-	 * @param cmdId    GCSplж
-	 * @param menuId   GCSplжĲ˵
+	 * @param cmdId    在GCSpl中定义的命令
+	 * @param menuId   在GCSpl中定义的菜单名
 	 * @param mneKey   The Mnemonic
 	 * @param mask     int, Because ActionEvent.META_MASK is almost not used. This
 	 *                 key seems to be only available on Macintosh keyboards. It is
 	 *                 used here instead of no accelerator key.
-	 * @param hasIcon  ˵Ƿͼ
-	 * @param menuText ˵ı
+	 * @param hasIcon  菜单项是否有图标
+	 * @param menuText 菜单项文本
 	 * @return
 	 */
 	protected JMenuItem newMenuItem(short cmdId, String menuId, char mneKey,
@@ -1074,17 +1074,17 @@ public abstract class AppMenu extends JMenuBar {
 	public abstract short[] getMenuItems();
 
 	/**
-	 * Զ˵Ŀǰֻа˵
-	 * @return ˵б
+	 * 加载自定义菜单，目前只有帮助菜单
+	 * @return 菜单项列表
 	 */
 	protected List<Object> buildMenuFromConfig() {
 		return buildMenuFromConfig("menuconfig");
 	}
 
 	/**
-	 * Զ˵Ŀǰֻа˵
-	 * @param fileName ļ
-	 * @return ˵б
+	 * 加载自定义菜单，目前只有帮助菜单
+	 * @param fileName 文件名
+	 * @return 菜单项列表
 	 */
 	protected List<Object> buildMenuFromConfig(String fileName) {
 		List<Object> helpMenus = new ArrayList<Object>();
@@ -1099,7 +1099,7 @@ public abstract class AppMenu extends JMenuBar {
 			for (int i = 0; i < list.getLength(); i++) {
 				Node el = (Node) list.item(i);
 				if (el.getNodeName().equalsIgnoreCase("help")) {
-					// ɰ˵
+					// 生成帮助菜单
 					NodeList helpList = el.getChildNodes();
 					for (int j = 0; j < helpList.getLength(); j++) {
 						el = (Node) helpList.item(j);
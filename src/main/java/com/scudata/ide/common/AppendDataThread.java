@@ -89,7 +89,7 @@ public class AppendDataThread extends Thread {
 				try {
 					val = record.getFieldValue(nNames[j]);
 				} catch (Exception e) {
-					// ȡʾ
+					// 取不到的显示空
 					continue;
 				}
 				int col = table.getColumnIndex(nNames[j]);
@@ -59,13 +59,13 @@ public class ConfigOptions {
 	/** Longest wait while connecting to the database */
 	public static Integer iConnectTimeout = new Integer(10);
 
-	/** ǷԶ */
+	/** 是否自动保存 */
 	public static Boolean bAutoSave = Boolean.FALSE;
-	/** Զʱӣ */
+	/** 自动保存时间间隔（分钟） */
 	public static Integer iAutoSaveMinutes = new Integer(10);
-	/** ½ļݵĿ¼ */
+	/** 新建文件备份到目录 */
 	public static String sBackupDirectory = GC.PATH_BACKUP;
-	/** Զ򿪵ļ */
+	/** 自动打开的文件数量 */
 	public static String sAutoOpenFileNames = null;
 
 	/** Parallel number */
@@ -84,9 +84,9 @@ public class ConfigOptions {
 	public static Boolean bStepLastLocation = Boolean.FALSE;
 	/** DEMO is displayed in the file tree */
 	public static Boolean bFileTreeDemo = Boolean.TRUE;
-	/** Ĭϼ */
+	/** 默认检查更新 */
 	// public static Boolean bCheckUpdate = Boolean.TRUE;
-	/** ʾ */
+	/** 提示即将过期 */
 	public static Boolean bNoticeExpiration = Boolean.TRUE;
 
 	/** Log file name */
@@ -112,7 +112,7 @@ public class ConfigOptions {
 	public static String sTimeFormat = Env.getTimeFormat();
 	/** Date time format */
 	public static String sDateTimeFormat = Env.getDateTimeFormat();
-	/** Default character set name */
+	/** Default character set name件 */
 	public static String sDefCharsetName = Env.getDefaultCharsetName();
 	/** Local host */
 	// public static String sLocalHost = "";
@@ -245,7 +245,7 @@ public class ConfigOptions {
 	 */
 	public static Boolean bTextEditorLineWrap = Boolean.FALSE;
 	/**
-	 * ʾ
+	 * 函数提示功能
 	 */
 	public static Boolean bFuncNotice = Boolean.TRUE;
 
@@ -358,7 +358,7 @@ public class ConfigOptions {
 	 * Save options
 	 * 
 	 * @param holdConsole
-	 * @param onlySave 
+	 * @param onlySave 仅保存
 	 * @throws Throwable
 	 */
 	public static void save(boolean holdConsole, boolean onlySave)
@@ -419,7 +419,7 @@ public class ConfigOptions {
 	}
 
 	/**
-	 * ѡ
+	 * 加载选项
 	 * 
 	 * @param option
 	 */
@@ -662,7 +662,7 @@ public class ConfigOptions {
 	}
 
 	/**
-	 * ־Զ
+	 * 创建日志属性对象
 	 * @return
 	 */
 	public static Properties getLoggerProperty() {
@@ -158,7 +158,7 @@ public class ConfigUtilIde {
 	/**
 	 * Load the configuration file by IDE
 	 * 
-	 * @param setLogLevel Ƿ־
+	 * @param setLogLevel 是否设置日志级别
 	 * @return
 	 * @throws IOException
 	 */
@@ -170,8 +170,8 @@ public class ConfigUtilIde {
 	/**
 	 * Load the configuration file
 	 * 
-	 * @param home        Ŀ¼
-	 * @param setLogLevel Ƿ־
+	 * @param home        主目录
+	 * @param setLogLevel 是否设置日志级别
 	 * @return
 	 * @throws IOException
 	 */
@@ -195,7 +195,7 @@ public class ConfigUtilIde {
 	/**
 	 * Load the configuration file
 	 * 
-	 * @param is ļ
+	 * @param is 文件输入流
 	 * @return
 	 */
 	public static RaqsoftConfig loadConfig(InputStream is) {
@@ -205,8 +205,8 @@ public class ConfigUtilIde {
 	/**
 	 * Load the configuration file
 	 * 
-	 * @param is          ļ
-	 * @param setLogLevel Ƿ־
+	 * @param is          文件输入流
+	 * @param setLogLevel 是否设置日志级别
 	 * @return
 	 */
 	public static RaqsoftConfig loadConfig(InputStream is, boolean setLogLevel) {
@@ -231,7 +231,7 @@ public class ConfigUtilIde {
 	/**
 	 * Set the configuration options
 	 * 
-	 * @param config ö
+	 * @param config 集算器配置对象
 	 */
 	public static void setConfigOptions(RaqsoftConfig config) {
 		try {
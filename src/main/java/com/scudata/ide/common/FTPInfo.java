@@ -1,37 +1,37 @@
 package com.scudata.ide.common;
 
 /**
- * FTPϢ
+ * FTP信息
  *
  */
 public class FTPInfo {
 	/**
-	 * 
+	 * 主机名
 	 */
 	private String host;
 	/**
-	 * ˿
+	 * 端口
 	 */
 	private int port = 21;
 	/**
-	 * û
+	 * 用户名
 	 */
 	private String user;
 	/**
-	 * 
+	 * 密码
 	 */
 	private String password;
 	/**
-	 * Ŀ¼
+	 * 目录
 	 */
 	private String directory;
 	/**
-	 * Ƿѡ
+	 * 是否选择
 	 */
 	private boolean selected;
 
 	/**
-	 * ȡ
+	 * 取主机名
 	 * 
 	 * @return
 	 */
@@ -40,7 +40,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * 
+	 * 设置主机名
 	 * 
 	 * @param host
 	 */
@@ -49,7 +49,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * ȡ˿
+	 * 取端口
 	 * 
 	 * @return
 	 */
@@ -58,7 +58,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * ö˿
+	 * 设置端口
 	 * 
 	 * @param port
 	 */
@@ -67,7 +67,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * ȡû
+	 * 取用户名
 	 * 
 	 * @return
 	 */
@@ -76,7 +76,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * û
+	 * 设置用户名
 	 * 
 	 * @param user
 	 */
@@ -85,7 +85,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * ȡ
+	 * 取密码
 	 * 
 	 * @return
 	 */
@@ -94,7 +94,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * 
+	 * 设置密码
 	 * 
 	 * @param password
 	 */
@@ -103,7 +103,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * ȡĿ¼
+	 * 取目录
 	 * 
 	 * @return
 	 */
@@ -112,7 +112,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * Ŀ¼
+	 * 设置目录
 	 * 
 	 * @param directory
 	 */
@@ -121,7 +121,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * Ƿѡ
+	 * 是否选出
 	 * 
 	 * @return
 	 */
@@ -130,7 +130,7 @@ public class FTPInfo {
 	}
 
 	/**
-	 * Ƿѡ
+	 * 设置是否选出
 	 * 
 	 * @param selected
 	 */
@@ -225,7 +225,7 @@ public class GC {
 	/** Recent connections */
 	public static final String RECENT_CONNS = "file.recentconns";
 	/** Quit */
-	public static final String QUIT = "file.quit"; // ˳
+	public static final String QUIT = "file.quit"; // 退出
 	/** New */
 	public static final short iNEW = 5;
 	/** Open */
@@ -376,7 +376,7 @@ public class GC {
 	 * Date formats used for display
 	 */
 	public static final String[] DATE_FORMATS = LANGUAGE == ASIAN_CHINESE ? new String[] {
-			"yyyy-MM-dd", "yyyyMMdd", "yyyy/MM/dd", "yy-MM-dd", "yyMMdd",
+			"yyyy-MM-dd", "yyyy年MM月dd日", "yyyy/MM/dd", "yy-MM-dd", "yy年MM月dd日",
 			"yy/MM/dd" }
 			: new String[] { "yyyy-MM-dd", "yyyy/MM/dd", "yy-MM-dd", "yy/MM/dd" };
 	/**
@@ -389,8 +389,8 @@ public class GC {
 	 * Date time formats used for display
 	 */
 	public static final String[] DATE_TIME_FORMATS = LANGUAGE == ASIAN_CHINESE ? new String[] {
-			"yyyy-MM-dd HH:mm:ss", "yyyyMMdd HH:mm:ss",
-			"yyyy/MM/dd HH:mm:ss", "yy-MM-dd HH:mm:ss", "yyMMdd HH:mm:ss",
+			"yyyy-MM-dd HH:mm:ss", "yyyy年MM月dd日 HH:mm:ss",
+			"yyyy/MM/dd HH:mm:ss", "yy-MM-dd HH:mm:ss", "yy年MM月dd日 HH:mm:ss",
 			"yy/MM/dd HH:mm:ss" }
 			: new String[] { "yyyy-MM-dd HH:mm:ss", "yyyy/MM/dd HH:mm:ss",
 					"yy-MM-dd HH:mm:ss", "yy/MM/dd HH:mm:ss" };
@@ -445,7 +445,7 @@ public class GC {
 	 */
 	public static final short MENU_SPL = 1000;
 	/**
-	 * EsProcs pop-up menu adds this constant
+	 * EsProc’s pop-up menu adds this constant
 	 */
 	public static final short POPMENU_SPL = 3000;
 
@@ -752,7 +752,7 @@ public class GM {
 					}
 				}
 			} else if (!multiSelect && extArr.length > 1) {
-				// ļбѡú׺
+				// 如果有文件名，在下拉列表中选择该后缀
 				if (oldFiles != null) {
 					File oldFile = (File) oldFiles;
 					if (oldFile != null) {
@@ -821,9 +821,9 @@ public class GM {
 				}
 
 				String path = chooser.getSelectedFile().getAbsolutePath();
-				// if (!path.toLowerCase().endsWith(fileExt)) { // л˺׺
-				// if (AppUtil.isSPLFile(path)) { // SPLļ
-				// // ȥ׺
+				// if (!path.toLowerCase().endsWith(fileExt)) { // 切换了后缀
+				// if (AppUtil.isSPLFile(path)) { // 仅限SPL网格文件的类型
+				// // 去掉后缀
 				// int index = path.lastIndexOf(".");
 				// path = path.substring(0, index);
 				// }
@@ -985,7 +985,7 @@ public class GM {
 	}
 
 	/**
-	 * ȥxmlַת洰λóߴ緽ʹ
+	 * 去掉xml的特殊字符，不转换，仅给保存窗口位置尺寸方法使用
 	 * 
 	 * @param str
 	 * @return
@@ -1512,12 +1512,12 @@ public class GM {
 	}
 
 	/**
-	 * 쳣Ϣ̨IDE־ļ
+	 * 输出异常信息到控制台和IDE日志文件
 	 * 
 	 * @param e Throwable or String
 	 */
 	public static void outputMessage(Object e) {
-		// Loggerͬʱ̨־ˣֱӵwriteLog
+		// 现在Logger同时输出到控制台和日志了，直接调用writeLog
 		writeLog(e);
 	}
 
@@ -3031,7 +3031,7 @@ public class GM {
 				Object val = item;
 				if (parse) {
 					if (item.startsWith(KeyWord.CONSTSTRINGPREFIX)
-							&& !item.endsWith(KeyWord.CONSTSTRINGPREFIX)) { // ַ'
+							&& !item.endsWith(KeyWord.CONSTSTRINGPREFIX)) { // 字符串常数'
 						val = item.substring(1);
 					} else {
 						val = Variant.parseCellValue(item);
@@ -3064,7 +3064,7 @@ public class GM {
 	 * 
 	 * @param iRow Row number
 	 * @param iCol Column number
-	 * @return cellַʶ,ֵֵcellΪһ
+	 * @return cell的字符串标识,如果列值大于最大列值，将cell设为第一列
 	 */
 	public static String getCellID(int iRow, int iCol) {
 		String retVal = "";
@@ -3567,9 +3567,9 @@ public class GM {
 	}
 
 	/**
-	 * ɾļĿ¼
-	 * @param f ļĿ¼
-	 * @return Ƿɾɹ
+	 * 删除文件或目录
+	 * @param f 文件或目录
+	 * @return 是否删除成功
 	 */
 	public static boolean deleteFile(File f) {
 		if (f == null || !f.exists())
@@ -3789,7 +3789,7 @@ public class GM {
 	}
 
 	/**
-	 * ȡSQLĲ
+	 * 获取SQL的部分
 	 * 
 	 * @param sql
 	 * @param part
@@ -3798,12 +3798,12 @@ public class GM {
 	public static String getPartOfSql(String sql, String part) {
 		sql = removeSqlNote(sql);
 		Object fromObj = com.scudata.dm.sql.SQLUtil.parse(sql, part);
-		if (fromObj == null) // nullתΪմIDEƴSQL
+		if (fromObj == null) // null转为空串，方便IDE拼SQL
 			return "";
 		if (fromObj instanceof Sequence) {
 			StringBuffer buf = new StringBuffer();
 			Sequence seq = (Sequence) fromObj;
-			// ﲻţҲţԲʹSequenceת
+			// 这里不加引号，也不加中括号，所以不使用Sequence转串方法
 			for (int i = 1, len = seq.length(); i <= len; i++) {
 				if (i > 1)
 					buf.append(",");
@@ -3816,7 +3816,7 @@ public class GM {
 	}
 
 	/**
-	 * 滻SQL
+	 * 替换部分SQL
 	 * 
 	 * @param sql
 	 * @param replace
@@ -3829,7 +3829,7 @@ public class GM {
 	}
 
 	/**
-	 * ʹʽȥSQLע
+	 * 使用正则表达式去除SQL注释
 	 */
 	public static String removeSqlNote(String sql) {
 		if (sql == null)
@@ -3839,7 +3839,7 @@ public class GM {
 	}
 
 	/**
-	 * ȡǰѡĴʼλ
+	 * 取当前选择的词起始位置
 	 * @param str
 	 * @param p
 	 * @return
@@ -3849,16 +3849,16 @@ public class GM {
 			return null;
 		if (p < 0) {
 			return null;
-		} else if (p == 0) { // ڵһλ
-			if (isSymbol(str.charAt(p))) { // һλַ
+		} else if (p == 0) { // 光标在第一个位置
+			if (isSymbol(str.charAt(p))) { // 第一位不是字符
 				return null;
 			}
 		} else {
 			if (p < str.length()) {
-				if (isSymbol(str.charAt(p))) { // λǷ
-					if (isSymbol(str.charAt(p - 1))) { // ǰһλҲǷ
+				if (isSymbol(str.charAt(p))) { // 光标位置是符号
+					if (isSymbol(str.charAt(p - 1))) { // 光标前一位也是符号
 						return null;
-					} else { // ƶǰһλʹpλַ
+					} else { // 移动到光标前一位，使p位是字符
 						p = p - 1;
 					}
 				}
@@ -3866,14 +3866,14 @@ public class GM {
 		}
 		int start = p;
 		int end = p;
-		for (int i = p - 1; i >= 0; i--) { // ַλǰ
+		for (int i = p - 1; i >= 0; i--) { // 从字符位置向前找
 			char c = str.charAt(i);
 			if (isSymbol(c)) {
 				start = i + 1;
 				break;
 			}
 		}
-		for (int i = p + 1; i < str.length(); i++) { // ַλ
+		for (int i = p + 1; i < str.length(); i++) { // 从字符位置向后找
 			char c = str.charAt(i);
 			if (isSymbol(c)) {
 				end = i;
@@ -3886,7 +3886,7 @@ public class GM {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否符号
 	 * @param c
 	 * @return
 	 */
@@ -3895,7 +3895,7 @@ public class GM {
 	}
 
 	/**
-	 * ļ
+	 * 按文件名排序
 	 * @param files
 	 * @return
 	 */
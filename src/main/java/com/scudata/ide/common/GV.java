@@ -45,7 +45,7 @@ public class GV {
 	public static Console console = null;
 
 	/**
-	 * ͨݵļ˫ʱݵģ
+	 * 通过参数传递的启动文件名（双击打开时传递的）
 	 */
 	public static String directOpenFile = "";
 
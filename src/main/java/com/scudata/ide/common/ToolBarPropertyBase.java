@@ -252,7 +252,7 @@ public abstract class ToolBarPropertyBase extends ToolbarGradient {
 	}
 
 	/**
-	 * ༭ؼ
+	 * 创建编辑控件
 	 */
 	protected void newTextEditor() {
 		textEditor = new JTextPaneEx() {
@@ -386,7 +386,7 @@ public abstract class ToolBarPropertyBase extends ToolbarGradient {
 	};
 
 	/**
-	 * س¼
+	 * 回车事件
 	 */
 	protected void enterPressed(KeyEvent e) {
 		submitEditor(textEditor.getText(), e.isControlDown() ? FORWARD_NONE
@@ -623,9 +623,9 @@ public abstract class ToolBarPropertyBase extends ToolbarGradient {
 		}
 	}
 
-	// :SpeedButton
-	// ˵:ʱťͻ𣬵뿪ʱťɱƽ
-	// toggle=trueʱťJToggleť
+	// 类名:SpeedButton
+	// 说明:当鼠标进入时，按钮突起，当鼠标离开时，按钮变成扁平
+	// 当toggle=true时，按钮具有JToggle按钮特性
 
 	/**
 	 * When the mouse enters, the button protrudes; when the mouse leaves, the
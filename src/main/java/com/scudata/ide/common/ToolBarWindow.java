@@ -39,42 +39,42 @@ public abstract class ToolBarWindow extends JPanel {
 	private SheetButton[] buttons = null;
 
 	/**
-	 * ťĿ
+	 * 按钮的宽度
 	 */
 	private final int BUTTON_WIDTH = 180;
 	/**
-	 * ʾരڵİť
+	 * 显示更多窗口的按钮
 	 */
 	private JLabel bMore = new JLabel();
 
 	/**
-	 * ʾരڵбؼ
+	 * 显示更多窗口的列表控件
 	 */
 	private JWindowList winList;
 
 	/**
-	 * ֹ¼ִ
+	 * 阻止事件执行
 	 */
 	private boolean preventChange = false;
 	/**
-	 * Сť
+	 * 最小化按钮
 	 */
 	private JButton bMin = new JButton();
 	/**
-	 * ԭť
+	 * 还原按钮
 	 */
 	private JButton bResume = new JButton();
 	/**
-	 * رհť
+	 * 关闭按钮
 	 */
 	private JButton bClose = new JButton();
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ToolBarWindow() {
 		super();
@@ -82,9 +82,9 @@ public abstract class ToolBarWindow extends JPanel {
 		this.setMinimumSize(new Dimension(0, 30));
 		this.setPreferredSize(new Dimension(1, 30));
 		this.setVisible(false);
-		bMin.setToolTipText(mm.getMessage("toolbarwindow.min")); // С
-		bResume.setToolTipText(mm.getMessage("toolbarwindow.resume")); // »ԭ
-		bClose.setToolTipText(mm.getMessage("toolbarwindow.close")); // ر
+		bMin.setToolTipText(mm.getMessage("toolbarwindow.min")); // 最小化
+		bResume.setToolTipText(mm.getMessage("toolbarwindow.resume")); // 向下还原
+		bClose.setToolTipText(mm.getMessage("toolbarwindow.close")); // 关闭
 		bMin.setIcon(GM.getImageIcon(GC.IMAGES_PATH + "b_min1.gif"));
 		bResume.setIcon(GM.getImageIcon(GC.IMAGES_PATH + "b_resume1.gif"));
 		bClose.setIcon(GM.getImageIcon(GC.IMAGES_PATH + "b_close1.gif"));
@@ -215,21 +215,21 @@ public abstract class ToolBarWindow extends JPanel {
 	}
 
 	/**
-	 * ȡҳͼ
+	 * 取页面的图标名称
 	 * 
 	 * @return
 	 */
 	public abstract String getSheetIconName();
 
 	/**
-	 * رҳ
+	 * 关闭页面
 	 * 
 	 * @param sheet
 	 */
 	public abstract void closeSheet(IPrjxSheet sheet);
 
 	/**
-	 * ʾҳ
+	 * 显示页面
 	 * 
 	 * @param sheet
 	 * @throws Exception
@@ -237,14 +237,14 @@ public abstract class ToolBarWindow extends JPanel {
 	public abstract void dispSheet(IPrjxSheet sheet) throws Exception;
 
 	/**
-	 * ȡťϵͼ
+	 * 取按钮上的图标对象
 	 * 
 	 * @return
 	 */
 	public abstract ImageIcon getLogoImage();
 
 	/**
-	 * Ƿڵʾരڰť
+	 * 是否正在点击显示更多窗口按钮
 	 * 
 	 * @return
 	 */
@@ -253,7 +253,7 @@ public abstract class ToolBarWindow extends JPanel {
 	}
 
 	/**
-	 * ˢ
+	 * 刷新
 	 */
 	public void refresh() {
 		JInternalFrame[] sheets = GV.appFrame.getAllSheets();
@@ -264,7 +264,7 @@ public abstract class ToolBarWindow extends JPanel {
 		}
 		int width = GV.appFrame.getWidth();
 		int size;
-		if (width - 85 > BUTTON_WIDTH * sheets.length) { // ȫܰ
+		if (width - 85 > BUTTON_WIDTH * sheets.length) { // 全部能摆下
 			size = sheets.length;
 		} else {
 			size = (width - 210) / BUTTON_WIDTH;
@@ -321,7 +321,7 @@ public abstract class ToolBarWindow extends JPanel {
 	}
 
 	/**
-	 * ˢ±İť(С,ԭ,ر)
+	 * 刷新标题栏的按钮(最小化,还原,关闭)
 	 */
 	private void refreshTitleButton() {
 		boolean vis = false;
@@ -334,7 +334,7 @@ public abstract class ToolBarWindow extends JPanel {
 	}
 
 	/**
-	 * ˢҳ
+	 * 刷新页面
 	 * 
 	 * @param sheet
 	 */
@@ -354,7 +354,7 @@ public abstract class ToolBarWindow extends JPanel {
 	}
 
 	/**
-	 * ļ
+	 * 重命名文件
 	 * 
 	 * @param sheet
 	 * @param newFile
@@ -371,43 +371,43 @@ public abstract class ToolBarWindow extends JPanel {
 	}
 
 	/**
-	 * ѡ״̬ıɫ
+	 * 选中状态的背景色
 	 */
 	private static Color SELECTED_BACK_COLOR = Color.WHITE;
 	/**
-	 * ȱʡıɫ
+	 * 缺省的背景色
 	 */
 	private static Color DEFAULT_BACK_COLOR = new JPanel().getBackground()
 			.darker();
 
 	/**
-	 * ҳ水ť
+	 * 页面按钮类
 	 */
 	class SheetButton extends JPanel {
 		private static final long serialVersionUID = 1L;
 		/**
-		 * ҳ
+		 * 页面对象
 		 */
 		private JInternalFrame sheet;
 		/**
-		 * ҳ
+		 * 页面名称
 		 */
 		private JLabel labelText = new JLabel();
 		/**
-		 * ҳͼ
+		 * 页面图标
 		 */
 		private JLabel labelIcon = new JLabel();
 		/**
-		 * رͼ
+		 * 关闭图标
 		 */
 		private JLabel labelClose = new JLabel();
 		/**
-		 * ͼ
+		 * 图标面板
 		 */
 		private JPanel panelIcon;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * 
 		 * @param sheet
 		 */
@@ -506,7 +506,7 @@ public abstract class ToolBarWindow extends JPanel {
 		}
 
 		/**
-		 * ѡ״̬
+		 * 设置选中状态
 		 * 
 		 * @param isSelected
 		 */
@@ -525,7 +525,7 @@ public abstract class ToolBarWindow extends JPanel {
 		}
 
 		/**
-		 * ҳ
+		 * 返回页面对象
 		 * 
 		 * @return
 		 */
@@ -534,7 +534,7 @@ public abstract class ToolBarWindow extends JPanel {
 		}
 
 		/**
-		 * 
+		 * 重命名
 		 * 
 		 * @param newName
 		 */
@@ -551,7 +551,7 @@ public abstract class ToolBarWindow extends JPanel {
 		}
 
 		/**
-		 * ʾ
+		 * 设置提示
 		 * 
 		 * @param filePath
 		 */
@@ -212,15 +212,15 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * жʾǷԪ
+	 * 判断显示区域中是否包含单元格区域
 	 * @param viewArea
 	 * @param cellArea
 	 * @return
 	 */
 	private static boolean containsArea(Rectangle viewArea, Rectangle cellArea) {
 		// return viewArea.contains(cellArea);
-		// ֮ǰȫԣпܸӱʾ򶼴
-		// ڸĳɵԪֻҪвʾھ
+		// 之前全部包含才算包含，这样不对，有可能格子比显示区域都大
+		// 现在改成单元格区域只要有部分在显示区域内就行
 		if (viewArea == null || cellArea == null)
 			return false;
 		if (!isAreaCoincide(viewArea.x, viewArea.x + viewArea.width,
@@ -332,7 +332,7 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * ڼǰԪڵ׸ıɫ뱨ͬ
+	 * 在激活当前单元格所在的行列首格的背景色与报表相同不变亮
 	 * 
 	 * @param g
 	 *            Graphics
@@ -601,32 +601,32 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * ı
+	 * 绘制文本
 	 * 
 	 * @param g
 	 *            Graphics
 	 * @param text
-	 *            ҪƵı
+	 *            要绘制的文本
 	 * @param x
-	 *            X
+	 *            X坐标
 	 * @param y
-	 *            Y
+	 *            Y坐标
 	 * @param w
-	 *            
+	 *            宽度
 	 * @param h
-	 *            ߶
+	 *            高度
 	 * @param underLine
-	 *            Ƿ»
+	 *            是否有下划线
 	 * @param halign
-	 *            ˮƽ뷽ʽ
+	 *            水平对齐方式
 	 * @param valign
-	 *            ֱ뷽ʽ
+	 *            竖直对齐方式
 	 * @param font
-	 *            
+	 *            字体
 	 * @param c
-	 *            ɫ
+	 *            颜色
 	 * @param indent
-	 *            
+	 *            缩进
 	 * @return
 	 */
 	public static int drawText(Graphics g, String text, int x, int y, int w,
@@ -637,34 +637,34 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * ı
+	 * 绘制文本
 	 * 
 	 * @param g
 	 *            Graphics
 	 * @param text
-	 *            ҪƵı
+	 *            要绘制的文本
 	 * @param x
-	 *            X
+	 *            X坐标
 	 * @param y
-	 *            Y
+	 *            Y坐标
 	 * @param w
-	 *            
+	 *            宽度
 	 * @param h
-	 *            ߶
+	 *            高度
 	 * @param underLine
-	 *            Ƿ»
+	 *            是否有下划线
 	 * @param halign
-	 *            ˮƽ뷽ʽ
+	 *            水平对齐方式
 	 * @param valign
-	 *            ֱ뷽ʽ
+	 *            竖直对齐方式
 	 * @param font
-	 *            
+	 *            字体
 	 * @param c
-	 *            ǰɫ
+	 *            前景色
 	 * @param indent
-	 *            
+	 *            缩进
 	 * @param wordWrap
-	 *            
+	 *            换行
 	 * @return
 	 */
 	public static int drawText(Graphics g, String text, int x, int y, int w,
@@ -744,7 +744,7 @@ public class ControlUtilsBase {
 				if (yy > y + h) {
 					break;
 				}
-				if (i > 0 && (yy + lineH) > (y + h)) { // ǵһУ׶˳Ҳʾ
+				if (i > 0 && (yy + lineH) > (y + h)) { // 非第一行，底端出格也不显示
 					break;
 				}
 				String wrapedText = (String) al.get(i);
@@ -765,14 +765,14 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * ڵԪοʾı
+	 * 获得能在单元格矩形框中显示的文本
 	 * 
 	 * @param text
-	 *            Ҫʾı
+	 *            要显示的文本
 	 * @param fm
 	 *            FontMetrics
 	 * @param w
-	 *            
+	 *            宽度
 	 * @return
 	 */
 	private static String getCanDisplayText(String text, FontMetrics fm, int w) {
@@ -804,18 +804,18 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * סַĿȣٻͼٶ
+	 * 记住字符的宽度，加速绘图速度
 	 */
 	private static HashMap<Short, Integer> fmWidthBuf = new HashMap<Short, Integer>();
 
 	/**
-	 * ȡַʾ
+	 * 获取字符串的显示宽度
 	 * 
 	 * @param fm
 	 *            FontMetrics
 	 * @param text
-	 *            Ҫʾַ
-	 * @return 
+	 *            要显示的字符串
+	 * @return 宽度
 	 */
 	public static int stringWidth(FontMetrics fm, String text) {
 		short key = (short) (fm.hashCode() + text.hashCode());
@@ -832,26 +832,26 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * ı»,PDFpdfCellһ𴫽
-	 * ĿǰνͼηʽֱgdrawPdfַʽPDFCellԼdrawΪ
-	 * ͼηʽռõĿռûб壬»ͨԼ߶֧
+	 * 绘制文本，处理下划线,如果是PDF输出，则连pdfCell一起传进来
+	 * 目前的所谓的图形方式〔即直接往g上面draw〕和Pdf的文字方式〔即调用PDFCell自己的draw〕的区别为：
+	 * 图形方式占用的空间大，文字输出则仅仅没有斜体，下划线通过自己画线两者都支持
 	 * 
 	 * @param g
-	 *            Graphics,ǰͼξ
+	 *            Graphics,当前输出的图形句柄
 	 * @param text
-	 *            String
+	 *            String，输出的文字
 	 * @param x
-	 *            intx
+	 *            int，x坐标
 	 * @param y
-	 *            inty
+	 *            int，y坐标
 	 * @param w
-	 *            intֿ
+	 *            int，文字宽度
 	 * @param underLine
-	 *            booleanǷ»
+	 *            boolean，是否有下划线
 	 * @param font
-	 *            Font
+	 *            Font，字体
 	 * @param c
-	 *            Colorǰɫ
+	 *            Color，前景色
 	 */
 	public static void outText(Graphics g, String text, int x, int y, int w,
 			boolean underLine, Font font, Color c) {
@@ -876,45 +876,45 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * ַ
+	 * 绘制字符串
 	 * 
 	 * @param g
-	 *            
+	 *            画布
 	 * @param f
-	 *            
+	 *            字体
 	 * @param text
-	 *            ҪƵı
+	 *            要绘制的文本
 	 * @param x
-	 *            X
+	 *            X坐标
 	 * @param y
-	 *            Y
+	 *            Y坐标
 	 */
 	private static void drawString(Graphics g, Font f, String text, int x, int y) {
 		g.drawString(text, x, y);
 	}
 
 	/**
-	 * Ϊ˲ظʹþ̬
+	 * 为了不重复创建对象，使用静态变量
 	 */
 	private static BasicStroke bstroke = new BasicStroke(0.75f);
 
 	/**
-	 * ı»
+	 * 绘制文本，处理下划线
 	 * 
 	 * @param g
-	 *            
+	 *            画布
 	 * @param text
-	 *            ҪƵı
+	 *            要绘制的文本
 	 * @param x
-	 *            X
+	 *            X坐标
 	 * @param y
-	 *            Y
+	 *            Y坐标
 	 * @param w
-	 *            
+	 *            宽度
 	 * @param descent
 	 *            Font descent
 	 * @param underLine
-	 *            Ƿ»
+	 *            是否有下划线
 	 */
 	private static void drawText(Graphics g, String text, int x, int y, int w,
 			int descent, boolean underLine) {
@@ -936,31 +936,31 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * б
+	 * 空列表
 	 */
 	private static ArrayList<String> emptyArrayList = new ArrayList<String>();
 
 	/**
-	 * ıеӳKEYַVALUEкıб
+	 * 缓存文本折行的映射表。KEY是字符串，VALUE是折行后的文本列表
 	 */
 	public static HashMap<String, ArrayList<String>> wrapStringBuffer = new HashMap<String, ArrayList<String>>();
 
 	/**
-	 * ıл
+	 * 清理文本折行缓存
 	 */
 	public static void clearWrapBuffer() {
 		wrapStringBuffer.clear();
 	}
 
 	/**
-	 * 
+	 * 折行
 	 * 
 	 * @param text
-	 *            Ҫеı
+	 *            要折行的文本
 	 * @param fm
 	 *            FontMetrics
 	 * @param w
-	 *            
+	 *            宽度
 	 * @return
 	 */
 	public static ArrayList<String> wrapString(String text, FontMetrics fm,
@@ -969,16 +969,16 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * 
+	 * 折行
 	 * 
 	 * @param text
-	 *            Ҫеı
+	 *            要折行的文本
 	 * @param fm
 	 *            FontMetrics
 	 * @param w
-	 *            
+	 *            宽度
 	 * @param maxRow
-	 *            (ľͲҪ)
+	 *            最大行数(超过此行数的就不要了)
 	 * @return
 	 */
 	public static ArrayList<String> wrapString(String text, FontMetrics fm,
@@ -1006,8 +1006,8 @@ public class ControlUtilsBase {
 						return wrapedString;
 					}
 				} else {
-					// jdk6New Times RomanʹLineBreakMeasurerjvm˳쳣
-					// 㲻ʲôʱʹõLineBreakMeasurerʱ滻ɱзwunan
+					// 在jdk6，New Times Roman字体使用LineBreakMeasurer出现jvm退出异常。
+					// 搞不清楚最早是什么时候使用的LineBreakMeasurer，暂时替换成报表的折行方法。wunan
 					// 2018-05-29
 					wrapedString = StringUtils2.wrapString(text, fm, w, false,
 							maxRow);
@@ -1077,12 +1077,12 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * 
+	 * 检查格子坐标
 	 * 
 	 * @param cp
-	 *            
+	 *            格子坐标
 	 * @param ics
-	 *            
+	 *            网格对象
 	 * @return
 	 */
 	public static CellLocation checkPosition(CellLocation cp, ICellSet ics) {
@@ -1105,12 +1105,12 @@ public class ControlUtilsBase {
 	}
 
 	/**
-	 * ǰıɫ
+	 * 当前格的背景色
 	 */
 	public static Color ACTIVE_BACK_COLOR = new Color(0x80, 0xA0, 0xC0);
 
 	/**
-	 * ѡеıɫ
+	 * 选择行列的背景色
 	 */
 	public static Color SELECTED_BACK_COLOR = new Color(0x99, 0x99, 0x66);
 }
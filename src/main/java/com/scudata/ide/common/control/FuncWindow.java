@@ -44,84 +44,84 @@ import com.scudata.ide.common.swing.JListEx;
 import com.scudata.ide.spl.GVSpl;
 
 /**
- * 
+ * 函数窗口
  *
  */
 public class FuncWindow extends JWindow {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 
+	 * 主面板
 	 */
 	private JPanel panelMain = new JPanel();
 
 	/**
-	 * бؼ
+	 * 函数列表控件
 	 */
 	private JListEx listFunc = new JListEx();
 
 	/**
-	 * ı
+	 * 函数描述文本框
 	 */
 	private JTextPane textDesc = new JTextPane();
 
 	/**
-	 * 
+	 * 函数管理器
 	 */
 	private FuncManager funcManager = FuncManager.getManager();
 
 	/**
-	 * Ƿ
+	 * 是否可用
 	 */
 	private boolean isEnabled = false;
 
 	/**
-	 * Ƿִֹж
+	 * 是否阻止执行动作
 	 */
 	private boolean preventChange = false;
 
 	/**
-	 * бĹؼ
+	 * 函数列表的滚动面板控件
 	 */
 	private JScrollPane jSPFunc = new JScrollPane(listFunc);
 
 	/**
-	 * ıĹؼ
+	 * 描述文本框的滚动面板控件
 	 */
 	private JScrollPane jSPDesc = new JScrollPane(textDesc);
 
 	/**
-	 * ϢԱȵӳ
+	 * 函数信息对比的映射表
 	 */
 	private HashMap<FuncInfo, FuncInfo> matchedMap = new HashMap<FuncInfo, FuncInfo>();
 
 	/**
-	 * ڱ༭ĺϢ
+	 * 正在编辑的函数信息
 	 */
 	private EditingFuncInfo efi;
 
 	/**
-	 * Ƿʾ
+	 * 窗口是否正在显示
 	 */
 	private boolean isDisplay = false;
 
 	/**
-	 * һεĺѡ
+	 * 上一次的函数选项
 	 */
 	private String oldEfo;
 
 	/**
-	 * һεĺ
+	 * 上一次的函数名
 	 */
 	private String oldFuncName;
 
 	/**
-	 * бе,0ʼ
+	 * 函数在列表中的序号,从0开始
 	 */
 	private int funcIndex = -1;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public FuncWindow() {
 		super(GV.appFrame);
@@ -160,7 +160,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * Ƿ
+	 * 函数窗口是否可用
 	 * 
 	 * @return
 	 */
@@ -169,7 +169,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * úǷ
+	 * 设置函数窗口是否可用
 	 * 
 	 * @param enabled
 	 */
@@ -179,7 +179,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * Ƿʾ
+	 * 函数窗口是否正在显示
 	 * 
 	 * @return
 	 */
@@ -188,19 +188,19 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * X꣬Y꣬
+	 * X坐标，Y坐标，宽度
 	 */
 	private int x, y, w;
 
 	/**
-	 * X꣬Y꣬
+	 * 设置X坐标，Y坐标，宽度
 	 * 
 	 * @param x
-	 *            X
+	 *            X坐标
 	 * @param y
-	 *            Y
+	 *            Y坐标
 	 * @param w
-	 *            
+	 *            宽度
 	 */
 	public void setPosition(int x, int y, int w) {
 		this.x = x;
@@ -209,7 +209,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ȡбؼĸ߶
+	 * 获取列表控件的高度
 	 * 
 	 * @return
 	 */
@@ -220,7 +220,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ȡıĸ߶
+	 * 获取函数描述文本框的高度
 	 * 
 	 * @param fi
 	 * @return
@@ -237,7 +237,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ȡܸ߶
+	 * 获取窗口总高度
 	 * 
 	 * @param fi
 	 * @return
@@ -247,7 +247,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * һεĺϢ
+	 * 重置上一次的函数信息
 	 */
 	private void resetOldFunc() {
 		oldFuncName = null;
@@ -255,7 +255,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ش
+	 * 隐藏窗口
 	 */
 	public void hideWindow() {
 		invalidate();
@@ -271,7 +271,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ʾһ
+	 * 显示下一个函数
 	 * 
 	 * @param textExp
 	 */
@@ -293,10 +293,10 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ʾ
+	 * 显示函数
 	 * 
 	 * @param index
-	 *            
+	 *            序号
 	 * @param textExp
 	 */
 	private void showFunc(int index, JTextComponent textExp) {
@@ -318,7 +318,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ƶ
+	 * 光标移动
 	 * 
 	 * @param textExp
 	 * @param ctx
@@ -328,7 +328,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ƶ
+	 * 光标移动
 	 * 
 	 * @param textExp
 	 * @param ctx
@@ -437,12 +437,12 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * úϢ
+	 * 设置函数信息
 	 * 
 	 * @param fList
-	 *            б
+	 *            函数列表
 	 * @param efi
-	 *            ڱ༭ĺϢ
+	 *            正在编辑的函数信息
 	 * @param textExp
 	 * @param matchedMap
 	 * @param resizeFuncWin
@@ -503,7 +503,7 @@ public class FuncWindow extends JWindow {
 					}
 				}
 				if (sameFunc && listIndex == listFunc.getSelectedIndex()) {
-					// ȫһĺͲ仯
+					// 完全一样的函数就不变化了
 					if (oldEfo == null && efo == null) {
 						return;
 					} else if (oldEfo != null && oldEfo.equals(efo)) {
@@ -525,7 +525,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ȡǰĺѡ
+	 * 取当前的函数选项
 	 * 
 	 * @param efi
 	 * @param textExp
@@ -546,7 +546,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ȡǰĺ
+	 * 取当前的函数参数配置
 	 * 
 	 * @param matchedFi
 	 * @param efi
@@ -611,7 +611,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ǰĺ
+	 * 当前的函数参数配置
 	 *
 	 */
 	class ActiveParamConfig {
@@ -629,7 +629,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * UI
+	 * 重置UI
 	 * 
 	 * @param fi
 	 */
@@ -645,7 +645,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ϢתΪַ
+	 * 将函数信息转为字符串
 	 * 
 	 * @param fi
 	 * @param efo
@@ -679,7 +679,7 @@ public class FuncWindow extends JWindow {
 					optChar = fo.getOptionChar();
 					if (StringUtils.isValidString(efo)) {
 						if (efo.indexOf(optChar) > -1) {
-							optChar = "<b>" + optChar + "</b>"; // ǰѡӴ
+							optChar = "<b>" + optChar + "</b>"; // 当前选项加粗
 						}
 					}
 					sb.append(optChar);
@@ -703,10 +703,10 @@ public class FuncWindow extends JWindow {
 				name = getFuncParamName(fp);
 				activeOptChar = '@';
 				if (isActiveParam) {
-					name = "<b>" + name + "</b>"; // ǰӴ
+					name = "<b>" + name + "</b>"; // 当前参数加粗
 					paramValue = activeParam.getParamValue();
 					optPos = paramValue.indexOf("@");
-					if (optPos > -1 && paramCaret > optPos) { // ڲѡ
+					if (optPos > -1 && paramCaret > optPos) { // 光标在参数选项上
 						activeOptChar = paramValue.charAt(paramCaret - 1);
 					}
 				}
@@ -720,7 +720,7 @@ public class FuncWindow extends JWindow {
 						fo = (FuncOption) options.get(j);
 						optChar = fo.getOptionChar();
 						if (optChar.equals(activeOptChar + "")) {
-							optChar = "<b>" + optChar + "</b>"; // ǰѡӴ
+							optChar = "<b>" + optChar + "</b>"; // 当前参数选项加粗
 						}
 						option.append(optChar);
 					}
@@ -777,7 +777,7 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ȡĲ
+	 * 取函数的参数名称
 	 * 
 	 * @param fp
 	 * @return
@@ -792,12 +792,12 @@ public class FuncWindow extends JWindow {
 	}
 
 	/**
-	 * ȽϺѡ
+	 * 比较函数选项
 	 * 
 	 * @param fi
-	 *            Ϣ
+	 *            函数信息
 	 * @param efi
-	 *            ڱ༭ĺϢ
+	 *            正在编辑的函数信息
 	 * @return
 	 */
 	private boolean compareFuncOption(FuncInfo fi, EditingFuncInfo efi) {
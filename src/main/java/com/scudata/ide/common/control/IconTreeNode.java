@@ -7,47 +7,47 @@ import com.scudata.ide.common.GC;
 import com.scudata.ide.common.GM;
 
 /**
- * ʾͼı༭
+ * 显示图标的树结点的编辑类
  *
  */
 public class IconTreeNode extends DefaultMutableTreeNode {
 
 	private static final long serialVersionUID = 1L;
 
-	/** ļ */
+	/** 文件夹 */
 	public static final byte TYPE_FOLDER = 0;
-	/**  */
+	/** 表 */
 	public static final byte TYPE_TABLE = 1;
-	/** ֶ */
+	/** 字段 */
 	public static final byte TYPE_COLUMN = 2;
 
 	/**
-	 * ͡TYPE_FOLDER,TYPE_KEYVAL,TYPE_TABLE,TYPE_COLUMN
+	 * 结点类型。TYPE_FOLDER,TYPE_KEYVAL,TYPE_TABLE,TYPE_COLUMN
 	 */
 	private byte type = TYPE_FOLDER;
 
 	/**
-	 * 
+	 * 结点名称
 	 */
 	private String name;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param name
-	 *            
+	 *            结点名称
 	 */
 	public IconTreeNode(String name) {
 		this(name, TYPE_FOLDER);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param name
-	 *            
+	 *            结点名称
 	 * @param type
-	 *            ͡TYPE_FOLDER,TYPE_KEYVAL,TYPE_TABLE,TYPE_COLUMN
+	 *            结点类型。TYPE_FOLDER,TYPE_KEYVAL,TYPE_TABLE,TYPE_COLUMN
 	 */
 	public IconTreeNode(String name, byte type) {
 		this.type = type;
@@ -55,7 +55,7 @@ public class IconTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡ
+	 * 取结点名称
 	 * 
 	 * @return
 	 */
@@ -64,7 +64,7 @@ public class IconTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ý
+	 * 设置结点名称
 	 * 
 	 * @param name
 	 */
@@ -73,7 +73,7 @@ public class IconTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡ͡TYPE_FOLDER,TYPE_KEYVAL,TYPE_TABLE,TYPE_COLUMN
+	 * 取结点类型。TYPE_FOLDER,TYPE_KEYVAL,TYPE_TABLE,TYPE_COLUMN
 	 * 
 	 * @return
 	 */
@@ -82,7 +82,7 @@ public class IconTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ý͡TYPE_FOLDER,TYPE_KEYVAL,TYPE_TABLE,TYPE_COLUMN
+	 * 设置结点类型。TYPE_FOLDER,TYPE_KEYVAL,TYPE_TABLE,TYPE_COLUMN
 	 * 
 	 * @param type
 	 */
@@ -91,14 +91,14 @@ public class IconTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * תΪַ
+	 * 转换为字符串
 	 */
 	public String toString() {
 		return name;
 	}
 
 	/**
-	 * ¡
+	 * 克隆
 	 * 
 	 * @return
 	 */
@@ -107,7 +107,7 @@ public class IconTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡʾͼ
+	 * 获取显示的图标
 	 * 
 	 * @return
 	 */
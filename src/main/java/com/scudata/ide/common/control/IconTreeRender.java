@@ -6,7 +6,7 @@ import javax.swing.JTree;
 import javax.swing.tree.DefaultTreeCellRenderer;
 
 /**
- * ʾͼʾ
+ * 显示图标的树结点的显示类
  *
  */
 public class IconTreeRender extends DefaultTreeCellRenderer {
@@ -14,13 +14,13 @@ public class IconTreeRender extends DefaultTreeCellRenderer {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public IconTreeRender() {
 	}
 
 	/**
-	 * ʵֺDefaultTreeCellRendererĻϼͼ
+	 * 实现函数，在DefaultTreeCellRenderer的基础上加上图标
 	 */
 	public Component getTreeCellRendererComponent(JTree tree, Object value,
 			boolean sel, boolean expanded, boolean leaf, int row,
@@ -33,59 +33,59 @@ import com.scudata.ide.common.IPrjxSheet;
 import com.scudata.ide.common.swing.JListEx;
 
 /**
- * бڰťʾʱരڻʾ˴
+ * 窗口列表。当窗口按钮显示不下时，点击更多窗口会显示此窗口
  *
  */
 public abstract class JWindowList extends JWindow {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * ı
+	 * 过滤文本框
 	 */
 	private JTextField textFilter = new JTextField();
 	/**
-	 * бؼ
+	 * 窗口列表控件
 	 */
 	private JListEx listWindow = new JListEx();
 	/**
-	 * ļ·б
+	 * 文件路径列表
 	 */
 	private Vector<String> paths = new Vector<String>();
 	/**
-	 * ļб
+	 * 文件名称列表
 	 */
 	private Vector<String> names = new Vector<String>();
 	/**
-	 * ˺ļ·б
+	 * 过滤后的文件路径列表
 	 */
 	private Vector<String> filterPaths = new Vector<String>();
 	/**
-	 * ˺ļб
+	 * 过滤后的文件名称列表
 	 */
 	private Vector<String> filterNames = new Vector<String>();
 
 	/**
-	 * Ѿʾڴڹϵ·
+	 * 已经显示在窗口工具栏上的路径名称
 	 */
 	private HashSet<String> existPaths = new HashSet<String>();
 
 	private Map<String, String> typeMap = new HashMap<String, String>();
 	private final Color BACK_COLOR = new Color(255, 255, 214);
 	/**
-	 * ȱʡıɫ
+	 * 缺省的背景色
 	 */
 	private final Color DEFAULT_BACK_COLOR = new JList<Object>()
 			.getBackground();
 	/**
-	 * ȱʡѡ״̬ıɫ
+	 * 缺省的选中状态的背景色
 	 */
 	private final Color SELECTED_BACK_COLOR = new JList<Object>()
 			.getSelectionBackground();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param buttonSize
-	 *            Ѿʾڴڹϵİť
+	 *            已经显示在窗口工具栏上的按钮数量
 	 */
 	public JWindowList(int buttonSize) {
 		super(GV.appFrame);
@@ -191,35 +191,35 @@ public abstract class JWindowList extends JWindow {
 	}
 
 	/**
-	 * ȡҳͼ
+	 * 取页面的图标
 	 * 
 	 * @return
 	 */
 	public abstract String getSheetIcon();
 
 	/**
-	 * ʾҳ
+	 * 显示页面
 	 * 
 	 * @param filePath
-	 *            ļ·
+	 *            文件路径
 	 * @return
 	 */
 	public abstract boolean showSheet(String filePath);
 
 	/**
-	 * Ƿڵʾരڰť
+	 * 是否正在点击显示更多窗口按钮
 	 * 
 	 * @return
 	 */
 	public abstract boolean isClickButton();
 
 	/**
-	 * λ
+	 * 设置位置
 	 * 
 	 * @param x
-	 *            X
+	 *            X坐标
 	 * @param y
-	 *            Y
+	 *            Y坐标
 	 */
 	public void setPos(int x, int y) {
 		int height = (paths.size() + 1) * 20 + 10;
@@ -228,7 +228,7 @@ public abstract class JWindowList extends JWindow {
 	}
 
 	/**
-	 * 
+	 * 过滤
 	 */
 	private void filter() {
 		String filter = textFilter.getText();
@@ -20,60 +20,60 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.JListEx;
 
 /**
- * ʽ༭
+ * 格式编辑面板
  */
 abstract public class PanelCellFormat extends JPanel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 	/**
-	 * ʽıؼ
+	 * 格式文本框控件
 	 */
 	private JTextField jTFFormat = new JTextField();
 	/**
-	 * ʽбؼֵ,,,ʱ,ʱ,,ѧ
+	 * 格式类型列表控件。数值,货币,日期,时间,日期时间,分数,科学计数。
 	 */
 	private JListEx jListType = new JListEx(
 			mm.getMessage("dialogcellformat.colnames"));
 	/**
-	 * бؼ
+	 * 样例列表控件
 	 */
 	private JList<String> jListSample = new JList<String>();
 
 	/**
-	 * ֵ
+	 * 数值
 	 */
 	private static final int TYPE_NUMBER = 0;
 	/**
-	 * 
+	 * 货币
 	 */
 	private static final int TYPE_CURRENCY = 1;
 	/**
-	 * 
+	 * 日期
 	 */
 	private static final int TYPE_DATE = 2;
 	/**
-	 * ʱ
+	 * 时间
 	 */
 	private static final int TYPE_TIME = 3;
 	/**
-	 * ʱ
+	 * 日期时间
 	 */
 	private static final int TYPE_DATE_TIME = 4;
 	/**
-	 * ٷ
+	 * 百分数
 	 */
 	private static final int TYPE_PERCENT = 5;
 	/**
-	 * ѧ
+	 * 科学计数
 	 */
 	private static final int TYPE_SCIENTIFIC_COUNTING = 6;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public PanelCellFormat() {
 		try {
@@ -84,26 +84,26 @@ abstract public class PanelCellFormat extends JPanel {
 	}
 
 	/**
-	 * øʽ
+	 * 设置格式
 	 * 
 	 * @param format
-	 *            ʽ
+	 *            格式串
 	 */
 	public void setFormat(String format) {
 		jTFFormat.setText(format);
 	}
 
 	/**
-	 * ȡʽ
+	 * 取格式
 	 * 
-	 * @return ʽ
+	 * @return 格式串
 	 */
 	public String getFormat() {
 		return jTFFormat.getText();
 	}
 
 	/**
-	 * ȡʽ
+	 * 取格式类型
 	 * 
 	 * @return
 	 */
@@ -126,7 +126,7 @@ abstract public class PanelCellFormat extends JPanel {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -134,8 +134,8 @@ abstract public class PanelCellFormat extends JPanel {
 		setLayout(new GridBagLayout());
 		JLabel jLabel1 = new JLabel();
 		JLabel jLabel2 = new JLabel();
-		jLabel1.setText(mm.getMessage("dialogcellformat.format")); // ʽ
-		jLabel2.setText(mm.getMessage("dialogcellformat.type")); // 
+		jLabel1.setText(mm.getMessage("dialogcellformat.format")); // 格式
+		jLabel2.setText(mm.getMessage("dialogcellformat.type")); // 分类
 		jListType
 				.addListSelectionListener(new PanelCellFormat_jListType_listSelectionAdapter(
 						this));
@@ -164,7 +164,7 @@ abstract public class PanelCellFormat extends JPanel {
 	}
 
 	/**
-	 * ʽͱ仯ʱʾӦ
+	 * 当格式类型变化时，显示相应的样例
 	 * 
 	 * @param e
 	 */
@@ -176,9 +176,9 @@ abstract public class PanelCellFormat extends JPanel {
 					"#,##0.000", "#,###.000" });
 			break;
 		case TYPE_CURRENCY:
-			jListSample.setListData(new String[] { "#0.00", "#.00", "#.#",
-					"#0.000", "#.000", "#,##0.00", "#,###.00", "#,###.#",
-					"#,##0.000", "#,###.000", "$#0.00", "$#.00", "$#.#",
+			jListSample.setListData(new String[] { "￥#0.00", "￥#.00", "￥#.#",
+					"￥#0.000", "￥#.000", "￥#,##0.00", "￥#,###.00", "￥#,###.#",
+					"￥#,##0.000", "￥#,###.000", "$#0.00", "$#.00", "$#.#",
 					"$#0.000", "$#.000", "$#,##0.00", "$#,###.00", "$#,###.#",
 					"$#,##0.000", "$#,###.000" });
 			break;
@@ -206,12 +206,12 @@ abstract public class PanelCellFormat extends JPanel {
 	}
 
 	/**
-	 * ʽѡк
+	 * 当格式选中后
 	 */
 	public abstract void formatSelected();
 
 	/**
-	 * ѡ
+	 * 选择了样例后
 	 * 
 	 * @param e
 	 */
@@ -221,7 +221,7 @@ abstract public class PanelCellFormat extends JPanel {
 	}
 
 	/**
-	 * ˫formatSelected()
+	 * 鼠标双击样例。触发formatSelected()方法
 	 * 
 	 * @param e
 	 */
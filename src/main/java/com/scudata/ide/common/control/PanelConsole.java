@@ -21,48 +21,48 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.common.resources.IdeCommonMessage;
 
 /**
- * 
+ * 输出面板
  *
  */
 public class PanelConsole extends JPanel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ̨
+	 * 控制台对象
 	 */
 	private Console console;
 	/**
-	 * 
+	 * 复制
 	 */
 	private JButton jBCopy = new JButton();
 	/**
-	 * 
+	 * 清理
 	 */
 	private JButton jBClean = new JButton();
 	/**
-	 * ǰԶ
+	 * 计算前自动清理
 	 */
 	private JCheckBox jCBAutoClean = new JCheckBox(IdeCommonMessage.get()
 			.getMessage("panelconsole.autoclean"));
 	/**
-	 * ǷIDE
+	 * 是否集算器IDE
 	 */
 	private boolean isSPL = false;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param console ̨
+	 * @param console 控制台对象
 	 */
 	public PanelConsole(Console console) {
 		this(console, false);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param console ̨
-	 * @param isSPL   ǷIDE
+	 * @param console 控制台对象
+	 * @param isSPL   是否集算器IDE
 	 */
 	public PanelConsole(Console console, boolean isSPL) {
 		super(new BorderLayout());
@@ -79,7 +79,7 @@ public class PanelConsole extends JPanel {
 	}
 
 	/**
-	 * Զ
+	 * 自动清理
 	 */
 	public void autoClean() {
 		if (jCBAutoClean.isSelected()) {
@@ -88,7 +88,7 @@ public class PanelConsole extends JPanel {
 	}
 
 	/**
-	 * ÿؼʾı
+	 * 设置控件的显示文本
 	 */
 	private void resetLangText() {
 		MessageManager mm = IdeCommonMessage.get();
@@ -97,16 +97,16 @@ public class PanelConsole extends JPanel {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
 	private void rqInit() throws Exception {
 		// jBCopy.setMnemonic('C');
-		// jBCopy.setText("(C)");
+		// jBCopy.setText("复制(C)");
 		jBCopy.addActionListener(new PanelConsole_jBCopy_actionAdapter(this));
 		// jBClean.setMnemonic('R');
-		// jBClean.setText("(R)");
+		// jBClean.setText("清除(R)");
 		jBClean.setVerticalAlignment(javax.swing.SwingConstants.CENTER);
 		jBClean.addActionListener(new PanelConsole_jBClean_actionAdapter(this));
 		JTextArea jTextArea1 = console.getTextArea();
@@ -145,7 +145,7 @@ public class PanelConsole extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 复制
 	 * 
 	 * @param e
 	 */
@@ -154,7 +154,7 @@ public class PanelConsole extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 清理
 	 * 
 	 * @param e
 	 */
@@ -29,44 +29,44 @@ import com.scudata.ide.common.swing.JTableEx;
 import com.scudata.util.Variant;
 
 /**
- * ༭
+ * 常序表编辑面板
  */
 public class PanelEditTable extends JPanel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ҳ
+	 * 常规页
 	 */
 	private final byte TAB_NORMAL = 0;
 	/**
-	 * ҳ
+	 * 数据页
 	 */
 	private final byte TAB_DATA = 1;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
-	/**  */
+	/** 序号列 */
 	private final byte COL_INDEX = 0;
-	/**  */
+	/** 名称列 */
 	private final byte COL_NAME = 1;
-	/**  */
+	/** 主键列 */
 	private final byte COL_PK = 2;
 
-	/** б */
+	/** 序号列标题 */
 	private final String STR_INDEX = mm.getMessage("paneledittable.index");
 
 	/**
-	 * ,,
+	 * 常规表对象。序号,名称,主键
 	 */
 	private JTableEx tableNormal = new JTableEx(
 			mm.getMessage("paneledittable.tablenormal")) {
 		private static final long serialVersionUID = 1L;
 
 		/**
-		 * ˫񣬵ı༭Ի
+		 * 双击列名格，弹出文本编辑对话框
 		 */
 		public void doubleClicked(int xpos, int ypos, int row, int col,
 				MouseEvent e) {
@@ -78,7 +78,7 @@ public class PanelEditTable extends JPanel {
 		}
 
 		/**
-		 * ύʱṹ仯
+		 * 提交列名时，表结构变化
 		 */
 		public void setValueAt(Object aValue, int row, int column) {
 			if (!isItemDataChanged(row, column, aValue)) {
@@ -107,34 +107,34 @@ public class PanelEditTable extends JPanel {
 	};
 
 	/**
-	 * JTabbedPane
+	 * JTabbedPane对象
 	 */
 	private JTabbedPane jTabMain = new JTabbedPane();
 
 	/**
-	 * ݱ
+	 * 数据表对象
 	 */
 	private JTableEx tableData;
 	/**
-	 * Ƿֹ仯
+	 * 是否阻止变化
 	 */
 	private boolean preventChange = false;
 
 	/**
-	 * 
+	 * 常量对象
 	 */
 	private Param param;
 
 	/**
-	 * 
+	 * 常序表对象
 	 */
 	private Table table;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param param
-	 *            
+	 *            常量对象
 	 */
 	public PanelEditTable(Param param) {
 		try {
@@ -151,7 +151,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ȡ
+	 * 获取常量对象
 	 * 
 	 * @return
 	 */
@@ -162,12 +162,12 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ޸
+	 * 修改列名
 	 * 
 	 * @param newName
-	 *            
+	 *            新列名
 	 * @param oldName
-	 *            
+	 *            旧列名
 	 * @return
 	 */
 	private boolean alterTable(String newName, String oldName) {
@@ -175,14 +175,14 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ޸
+	 * 修改列名
 	 * 
 	 * @param newName
-	 *            
+	 *            新列名
 	 * @param oldName
-	 *            
+	 *            旧列名
 	 * @param row
-	 *            к
+	 *            行号
 	 * @return
 	 */
 	private boolean alterTable(String newName, String oldName, int row) {
@@ -268,7 +268,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -278,7 +278,7 @@ public class PanelEditTable extends JPanel {
 		panelNormal.add(new JScrollPane(tableNormal),
 				GM.getGBC(0, 0, true, true));
 
-		jTabMain.add(panelNormal, mm.getMessage("paneledittable.normal")); // 
+		jTabMain.add(panelNormal, mm.getMessage("paneledittable.normal")); // 常规
 
 		tableData = new JTableEx() {
 			private static final long serialVersionUID = 1L;
@@ -319,7 +319,7 @@ public class PanelEditTable extends JPanel {
 		tableData.setClickCountToStart(1);
 
 		jTabMain.add(new JScrollPane(tableData),
-				mm.getMessage("paneledittable.data")); // 
+				mm.getMessage("paneledittable.data")); // 数据
 		initTable(tableNormal);
 		tableNormal.setColumnCheckBox(COL_PK);
 		tableNormal.getColumn(COL_PK).setMaxWidth(80);
@@ -331,7 +331,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化常量表
 	 */
 	private void initConstTable() {
 		if (table == null) {
@@ -341,19 +341,19 @@ public class PanelEditTable extends JPanel {
 		if (ds == null) {
 			return;
 		}
-		// ֶͨ
+		// 设置普通字段
 		initNormalTable(ds.getFieldNames(), ds.getPrimary());
-		// 
+		// 常排列数据
 		resetTableData();
 	}
 
 	/**
-	 * ʼֶκ
+	 * 初始化字段和主键
 	 * 
 	 * @param normalNames
-	 *            ֶ
+	 *            字段名
 	 * @param primarys
-	 *            
+	 *            主键名
 	 */
 	private void initNormalTable(String[] normalNames, String[] primarys) {
 		if (normalNames == null) {
@@ -375,7 +375,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ȡǰڱ༭JTable
+	 * 获取当前正在编辑的JTable对象
 	 * 
 	 * @return
 	 */
@@ -390,7 +390,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 检查数据
 	 * 
 	 * @return
 	 */
@@ -409,7 +409,7 @@ public class PanelEditTable extends JPanel {
 					JOptionPane.showMessageDialog(
 							GV.appFrame,
 							mm.getMessage("paneledittable.emptyname",
-									String.valueOf(i + 1))); // ڣ{0}ֶΪա
+									String.valueOf(i + 1))); // 第：{0}行字段名为空。
 					return false;
 				}
 				if (keys.contains(key)) {
@@ -417,7 +417,7 @@ public class PanelEditTable extends JPanel {
 					JOptionPane.showMessageDialog(
 							GV.appFrame,
 							mm.getMessage("paneledittable.existname",
-									String.valueOf(i + 1))); // ڣ{0}ֶظ
+									String.valueOf(i + 1))); // 第：{0}行字段名重复。
 					return false;
 				}
 				keys.add(key);
@@ -425,13 +425,13 @@ public class PanelEditTable extends JPanel {
 		} else {
 			int option = JOptionPane.showOptionDialog(
 					GV.appFrame,
-					mm.getMessage("paneledittable.norow"), // ṹٵһֶΣǷȱʡֶΣ
-					mm.getMessage("public.prompt"), // ʾ
+					mm.getMessage("paneledittable.norow"), // 表结构至少得有一个字段，是否增加缺省字段？
+					mm.getMessage("public.prompt"), // 提示
 					JOptionPane.YES_NO_OPTION,
 					JOptionPane.QUESTION_MESSAGE,
 					null,
 					new String[] { mm.getMessage("public.ok"),
-							mm.getMessage("public.cancel") } // ȷ,ȡ
+							mm.getMessage("public.cancel") } // 确定,取消
 					, mm.getMessage("public.ok"));
 			switch (option) {
 			case JOptionPane.YES_OPTION:
@@ -448,7 +448,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ȡ
+	 * 获取主键
 	 * 
 	 * @return
 	 */
@@ -468,7 +468,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 行上移
 	 */
 	public void rowUp() {
 		JTableEx editingTable = getEditingTable();
@@ -484,7 +484,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 行下移
 	 */
 	public void rowDown() {
 		JTableEx editingTable = getEditingTable();
@@ -499,7 +499,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 增加行
 	 */
 	public void addRow() {
 		JTableEx editingTable = getEditingTable();
@@ -539,7 +539,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 插入行
 	 */
 	public void insertRow() {
 		JTableEx editingTable = getEditingTable();
@@ -603,8 +603,8 @@ public class PanelEditTable extends JPanel {
 		if (editingTable.equals(tableNormal)) {
 			if (tableNormal.getRowCount() == 1) {
 				JOptionPane.showMessageDialog(GV.appFrame,
-						mm.getMessage("paneledittable.atleastonerow")); // ṹٵһֶΡ
-				// ݽṹֶĿΪ0
+						mm.getMessage("paneledittable.atleastonerow")); // 表结构至少得有一个字段。
+				// 数据结构的字段数目不能为0
 				return;
 			}
 
@@ -630,7 +630,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ʼJTableؼ
+	 * 初始化JTable控件
 	 * 
 	 * @param table
 	 */
@@ -643,7 +643,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ṹ仯
+	 * 表结构发生变化
 	 */
 	private void tableStructChanged() {
 		if (preventChange) {
@@ -653,7 +653,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ñ
+	 * 重置表数据
 	 */
 	private void resetTableData() {
 		tableData.data.setRowCount(0);
@@ -706,7 +706,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ݱı༭
+	 * 重置数据表的编辑风格
 	 */
 	private void resetTableDataStyle() {
 		if (table == null) {
@@ -724,7 +724,7 @@ public class PanelEditTable extends JPanel {
 	}
 
 	/**
-	 * ѡTABı
+	 * 选择的TAB发生改变
 	 * 
 	 * @param e
 	 */
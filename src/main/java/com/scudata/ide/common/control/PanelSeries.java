@@ -17,34 +17,34 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.JTableEx;
 
 /**
- * б༭
+ * 常序列编辑面板
  *
  */
 public class PanelSeries extends JPanel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * 
+	 * 序号列
 	 */
 	private final int COL_INDEX = 0;
 	/**
-	 * ֵ
+	 * 值列
 	 */
 	private final int COL_VALUE = 1;
 	/**
-	 * ֵı
+	 * 常序列值的表对象
 	 */
 	private JTableEx tableSeq = new JTableEx(
-			mm.getMessage("panelseries.tableparam")) { // ,ֵ
+			mm.getMessage("panelseries.tableparam")) { // 序号,值
 		private static final long serialVersionUID = 1L;
 
 		/**
-		 * ˫ıԻ༭ֵ
+		 * 双击弹出文本对话框编辑值
 		 */
 		public void doubleClicked(int xpos, int ypos, int row, int col,
 				MouseEvent e) {
@@ -52,7 +52,7 @@ public class PanelSeries extends JPanel {
 		}
 
 		/**
-		 * ֵύʱתӦĶ
+		 * 值提交时转换成相应的对象
 		 */
 		public void setValueAt(Object aValue, int row, int column) {
 			if (!isItemDataChanged(row, column, aValue)) {
@@ -75,17 +75,17 @@ public class PanelSeries extends JPanel {
 	};
 
 	/**
-	 * ж
+	 * 常序列对象
 	 */
 	private Sequence seq;
 
 	/**
-	 * Ƿֹ仯
+	 * 是否阻止变化
 	 */
 	private boolean preventChange = false;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public PanelSeries() {
 		try {
@@ -97,7 +97,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -107,7 +107,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * ó
+	 * 设置常量对象
 	 * 
 	 * @param param
 	 */
@@ -124,7 +124,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * ȡ
+	 * 取常量对象
 	 * 
 	 * @return
 	 */
@@ -133,7 +133,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * ˢ
+	 * 刷新
 	 */
 	private void refresh() {
 		tableSeq.removeAllRows();
@@ -150,7 +150,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * ȫѡ
+	 * 全选
 	 */
 	public void selectAll() {
 		tableSeq.acceptText();
@@ -158,7 +158,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 行上移
 	 */
 	public void rowUp() {
 		tableSeq.acceptText();
@@ -170,7 +170,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 行下移
 	 */
 	public void rowDown() {
 		tableSeq.acceptText();
@@ -182,7 +182,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 增加行
 	 */
 	public void addRow() {
 		tableSeq.acceptText();
@@ -191,7 +191,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 插入行
 	 */
 	public void insertRow() {
 		tableSeq.acceptText();
@@ -205,7 +205,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 检查数据
 	 * 
 	 * @return
 	 */
@@ -215,7 +215,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * ݸƵ
+	 * 将数据复制到剪贴板
 	 */
 	public void clipBoard() {
 		String blockData = tableSeq.getBlockData();
@@ -223,7 +223,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * ɾѡе
+	 * 删除选中的行
 	 */
 	public void deleteRows() {
 		tableSeq.acceptText();
@@ -238,7 +238,7 @@ public class PanelSeries extends JPanel {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化表控件
 	 */
 	private void initTable() {
 		preventChange = true;
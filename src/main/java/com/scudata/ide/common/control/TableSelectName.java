@@ -37,69 +37,69 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.JTableEx;
 
 /**
- * ѡƵıؼ
+ * 选择名称的表控件
  */
 public class TableSelectName extends JScrollPane {
 
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
-	/**  */
+	/** 名称列 */
 	public static final byte COL_NAME = 1;
-	/** ѡ */
+	/** 选出列 */
 	private static final byte COL_SELECT = 2;
 
-	/** б */
+	/** 序号列标题 */
 	private final String TITLE_INDEX = mm.getMessage("tableselectname.index");
-	/** б */
+	/** 名称列标题 */
 	private final String TITLE_NAME = mm.getMessage("tableselectname.name");
-	/** ѡб */
+	/** 选出列标题 */
 	private final String TITLE_SELECT = mm.getMessage("tableselectname.select");
 
 	/**
-	 * JTableؼ
+	 * JTable控件
 	 */
 	private JTableEx tableNames;
 
 	/**
-	 * Ƿȫѡ
+	 * 是否全选
 	 */
 	private boolean selectAll = false;
 
 	/**
-	 * Ѿڵ
+	 * 已经存在的名称
 	 */
 	private Vector<String> existNames;
 
 	/**
-	 * ѾڵֶǷʾΪͬɫ
+	 * 已经存在的字段名是否显示为不同颜色
 	 */
 	private boolean existColor = true;
 
 	/**
-	 * ַ
+	 * 过滤字符串
 	 */
 	private String filter = null;
 
 	/**
-	 * Ƿֹ仯
+	 * 是否阻止变化
 	 */
 	private boolean preventChange = false;
 
 	/**
-	 * ֵѡ״̬
+	 * 名字的选择状态集合
 	 */
 	private Map<String, Boolean> nameSelected = new HashMap<String, Boolean>();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param dispName
-	 *            еı
+	 *            名称列的标题
 	 */
 	public TableSelectName(String dispName) {
 		tableNames = new JTableEx(TITLE_INDEX + ","
@@ -154,7 +154,7 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ǷѴֶʾΪͬɫ
+	 * 设置是否将已存在字段显示为不同颜色
 	 * 
 	 * @param existColor
 	 */
@@ -163,7 +163,7 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ȡѡе
+	 * 取选中的行
 	 * 
 	 * @return
 	 */
@@ -172,49 +172,49 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ѡб仯ⲿд
+	 * 选择行变化。外部可以重写
 	 * 
 	 * @param oldRow
-	 *            
+	 *            旧行
 	 * @param newRow
-	 *            
+	 *            新行
 	 */
 	public void rowChanged(int oldRow, int newRow) {
 	}
 
 	/**
-	 * ˫ⲿд
+	 * 鼠标双击。外部可以重写
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 */
 	public void doubleClick(int row, int col) {
 	}
 
 	/**
-	 * еѡ״̬仯ⲿд
+	 * 行的选中状态变化。外部可以重写
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param selected
-	 *            Ƿѡ
+	 *            是否选中
 	 */
 	public void rowSelectedChanged(int row, boolean selected) {
 	}
 
 	/**
-	 * ıеѡ״̬ⲿд
+	 * 改变所有行的选中状态。外部可以重写
 	 * 
 	 * @param allSelected
-	 *            Ƿȫѡ
+	 *            是否全选
 	 */
 	public void allRowsSelected(boolean allSelected) {
 	}
 
 	/**
-	 * ȡе
+	 * 取所有的行数
 	 * 
 	 * @return
 	 */
@@ -223,12 +223,12 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * зֵ
+	 * 按行列返回值
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public Object getValueAt(int row, int col) {
@@ -236,46 +236,46 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ùַ
+	 * 设置过滤字符串
 	 * 
 	 * @param filter
-	 *            ַ
+	 *            过滤字符串
 	 */
 	public void setFilter(String filter) {
 		this.filter = filter;
 	}
 
 	/**
-	 * б
+	 * 设置名称列表
 	 * 
 	 * @param names
-	 *            б
+	 *            名称列表
 	 */
 	public synchronized void setNames(Vector<String> names) {
 		setNames(names, false, false);
 	}
 
 	/**
-	 * б
+	 * 设置名称列表
 	 * 
 	 * @param names
-	 *            б
+	 *            名称列表
 	 * @param reset
-	 *            Ƿѡ״̬
+	 *            是否重置选择状态
 	 */
 	public synchronized void setNames(Vector<String> names, boolean reset) {
 		setNames(names, reset, false);
 	}
 
 	/**
-	 * б
+	 * 设置名称列表
 	 * 
 	 * @param names
-	 *            б
+	 *            名称列表
 	 * @param reset
-	 *            Ƿѡ״̬
+	 *            是否重置选择状态
 	 * @param selectExist
-	 *            ǷѡѾڵֶ
+	 *            是否选中已经存在的字段
 	 */
 	public synchronized void setNames(Vector<String> names, boolean reset,
 			boolean selectExist) {
@@ -341,10 +341,10 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ȡѡе
+	 * 取选中的名字
 	 * 
 	 * @param tableName
-	 *            Զƴϡ.ֶΡnull򲻼ӡ
+	 *            表名。用于自动拼上“表.字段”。如果表名是null则不加。
 	 * @return
 	 */
 	public String[] getSelectedNames(String tableName) {
@@ -352,12 +352,12 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ȡѡе
+	 * 取选中的名字
 	 * 
 	 * @param tableName
-	 *            Զƴϡ.ֶΡnull򲻼ӡ
+	 *            表名。用于自动拼上“表.字段”。如果表名是null则不加。
 	 * @param opt
-	 *            ѡ
+	 *            选项
 	 * @return
 	 */
 	public String[] getSelectedNames(String tableName, String opt) {
@@ -386,7 +386,7 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ȡѡе
+	 * 取选中的序号
 	 * 
 	 * @return
 	 */
@@ -406,11 +406,11 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * Ƿѡ
+	 * 行是否被选中了
 	 * 
 	 * @param row
-	 *            к
-	 * @return ǷѡУtrueѡУfalseδѡ
+	 *            行号
+	 * @return 返回行是否被选中，true选中，false未选中
 	 */
 	public boolean isRowSelected(int row) {
 		Object s = tableNames.data.getValueAt(row, COL_SELECT);
@@ -418,12 +418,12 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * Ƿѡ
+	 * 设置行是否被选择
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param selected
-	 *            Ƿѡ
+	 *            是否选中
 	 */
 	public void setRowSelected(int row, boolean selected) {
 		tableNames.data.setValueAt(new Boolean(selected), row, COL_SELECT);
@@ -431,7 +431,7 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * Ѿڵ
+	 * 设置已经存在的名字
 	 * 
 	 * @param existNames
 	 */
@@ -440,7 +440,7 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		this.getViewport().add(tableNames);
@@ -526,7 +526,7 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ʼť
+	 * 初始化按钮
 	 * 
 	 * @param b
 	 */
@@ -538,10 +538,10 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ȫѡȫѡ
+	 * 全选或全不选
 	 * 
 	 * @param selected
-	 *            trueʾȫѡfalseȫѡ
+	 *            true表示全选，false全不选
 	 */
 	public void selectAll(boolean selected) {
 		selectAll = selected;
@@ -556,7 +556,7 @@ public class TableSelectName extends JScrollPane {
 	}
 
 	/**
-	 * ѡ״̬仯
+	 * 选中状态变化了
 	 */
 	protected void setDataChanged() {
 	}
@@ -5,50 +5,50 @@ import java.awt.datatransfer.Transferable;
 import java.awt.datatransfer.UnsupportedFlavorException;
 
 /**
- * IDEʱݵĶ
+ * IDE复制时传递的对象
  */
 public class TransferableObject implements Transferable {
 	/**
-	 * ƵĶ
+	 * 复制的对象
 	 */
 	private Object object;
 	/**
-	 * DataFlavor
+	 * DataFlavor对象
 	 */
 	public static final DataFlavor objectFlavor = new DataFlavor(
 			TransferableObject.class, "object");
 
 	/**
-	 * DataFlavor
+	 * DataFlavor数组
 	 */
 	static DataFlavor[] flavors = { objectFlavor };
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param object
-	 *            ƵĶ
+	 *            复制的对象
 	 */
 	public TransferableObject(Object object) {
 		this.object = object;
 	}
 
 	/**
-	 * ȡݵDataFlavor
+	 * 取传递的DataFlavor数组
 	 */
 	public DataFlavor[] getTransferDataFlavors() {
 		return flavors;
 	}
 
 	/**
-	 * DataFlavorǷ֧
+	 * DataFlavor是否被支持
 	 */
 	public boolean isDataFlavorSupported(DataFlavor flavor) {
 		return flavor.equals(objectFlavor);
 	}
 
 	/**
-	 * DataFlavorȡݵĶ
+	 * 从DataFlavor取传递的对象
 	 */
 	public synchronized Object getTransferData(DataFlavor flavor)
 			throws UnsupportedFlavorException {
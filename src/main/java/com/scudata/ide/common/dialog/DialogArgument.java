@@ -30,35 +30,35 @@ import com.scudata.ide.common.swing.VFlowLayout;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * Ի
+ * 输入参数对话框
  */
 public class DialogArgument extends DialogMaxmizable {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
-	/**  */
+	/** 序号列 */
 	private final byte COL_INDEX = 0;
-	/**  */
+	/** 名称列 */
 	private final byte COL_NAME = 1;
-	/** ֵ */
+	/** 值列 */
 	private final byte COL_VALUE = 2;
-	/** ע */
+	/** 备注列 */
 	private final byte COL_REMARK = 3;
 
-	/** б */
+	/** 序号列标题 */
 	private final String TITLE_INDEX = mm.getMessage("dialogargument.index");
-	/** б */
+	/** 名称列标题 */
 	private final String TITLE_NAME = mm.getMessage("dialogargument.name");
-	/** ֵб */
+	/** 值列标题 */
 	private final String TITLE_VALUE = mm.getMessage("dialogargument.value");
-	/** עб */
+	/** 备注列标题 */
 	private final String TITLE_REMARK = mm.getMessage("dialogparameter.remark");
 
 	/**
-	 * ؼ,,ֵ
+	 * 参数表控件。序号,名称,值
 	 */
 	public JTableEx paraTable = new JTableEx(TITLE_INDEX + "," + TITLE_NAME
 			+ "," + TITLE_VALUE + "," + TITLE_REMARK) {
@@ -80,61 +80,61 @@ public class DialogArgument extends DialogMaxmizable {
 	};
 
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * Ӱť
+	 * 增加按钮
 	 */
 	private JButton jBAdd = new JButton();
 	/**
-	 * ɾť
+	 * 删除按钮
 	 */
 	private JButton jBDel = new JButton();
 	/**
-	 * ưť
+	 * 上移按钮
 	 */
 	private JButton jBUp = new JButton();
 	/**
-	 * ưť
+	 * 下移按钮
 	 */
 	private JButton jBDown = new JButton();
 	/**
-	 * ȫѡť
+	 * 全选按钮
 	 */
 	private JButton buttonAll = new JButton(mm.getMessage("button.selectall"));
 	/**
-	 * ưť
+	 * 复制按钮
 	 */
 	private JButton buttonCopy = new JButton(
 			mm.getMessage("dialogparameter.copy"));
 	/**
-	 * ճť
+	 * 粘贴按钮
 	 */
 	private JButton buttonPaste = new JButton(mm.getMessage("button.paste"));
 	/**
-	 * ÿǰò
+	 * 每次运行前设置参数
 	 */
 	private JCheckBox jcbUserChange = new JCheckBox(
 			mm.getMessage("dialogparameter.setbeforerun"));
 	/**
-	 * ڵĹرն
+	 * 窗口的关闭动作
 	 */
 	private int m_option = JOptionPane.CLOSED_OPTION;
 	/**
-	 * б
+	 * 参数列表
 	 */
 	private ParamList pl;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogArgument() {
-		super(GV.appFrame, "༭", true);
+		super(GV.appFrame, "参数编辑", true);
 		try {
 			initUI();
 			init();
@@ -148,7 +148,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		paraTable.setIndexCol(COL_INDEX);
@@ -161,7 +161,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * شڹرն
+	 * 返回窗口关闭动作
 	 * 
 	 * @return
 	 */
@@ -170,10 +170,10 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * òб
+	 * 设置参数列表
 	 * 
 	 * @param pl
-	 *            б
+	 *            参数列表
 	 */
 	public void setParameter(ParamList pl) {
 		if (pl == null) {
@@ -200,21 +200,21 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡб
+	 * 取参数列表
 	 * 
-	 * @return б
+	 * @return 参数列表
 	 */
 	public ParamList getParameter() {
 		return paramList;
 	}
 
 	/**
-	 * ༭Ĳб
+	 * 编辑后的参数列表
 	 */
 	private ParamList paramList = null;
 
 	/**
-	 * 
+	 * 检查参数列
 	 * 
 	 * @return
 	 */
@@ -275,7 +275,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * ʾı
+	 * 根据语言设置显示文本
 	 */
 	private void resetLangText() {
 		setTitle(mm.getMessage("dialogparameter.title"));
@@ -288,7 +288,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -297,29 +297,29 @@ public class DialogArgument extends DialogMaxmizable {
 		this.getContentPane().setLayout(new BorderLayout());
 		JPanel jPanel1 = new JPanel();
 		jPanel1.setLayout(new VFlowLayout());
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogArgument_jBOK_actionAdapter(this));
 		jBOK.setMnemonic('O');
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addFocusListener(new DialogArgument_jBCancel_focusAdapter(this));
 		jBCancel.addActionListener(new DialogArgument_jBCancel_actionAdapter(
 				this));
 		jBAdd.setAlignmentX((float) 0.0);
 		jBAdd.setAlignmentY((float) 5.0);
 		jBAdd.setMnemonic('A');
-		jBAdd.setText("(A)");
+		jBAdd.setText("增加(A)");
 		jBAdd.addActionListener(new DialogArgument_jBAdd_actionAdapter(this));
 		jBDel.setMnemonic('D');
-		jBDel.setText("ɾ(D)");
+		jBDel.setText("删除(D)");
 		jBDel.addActionListener(new DialogArgument_jBDel_actionAdapter(this));
 		jBUp.setActionCommand("");
 		jBUp.setMnemonic('U');
-		jBUp.setText("(U)");
+		jBUp.setText("上移(U)");
 		jBUp.addActionListener(new DialogArgument_jBUp_actionAdapter(this));
 		jBDown.setToolTipText("");
 		jBDown.setMnemonic('W');
-		jBDown.setText("(W)");
+		jBDown.setText("下移(W)");
 		jBDown.addActionListener(new DialogArgument_jBDown_actionAdapter(this));
 		buttonAll.setMnemonic('A');
 		buttonCopy.setMnemonic('X');
@@ -402,7 +402,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * ɾ
+	 * 删除命令
 	 * 
 	 * @param e
 	 */
@@ -411,7 +411,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * 
+	 * 增加命令
 	 * 
 	 * @param e
 	 */
@@ -425,7 +425,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȷ
+	 * 确定命令
 	 * 
 	 * @param e
 	 */
@@ -443,7 +443,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡ
+	 * 取消命令
 	 * 
 	 * @param e
 	 */
@@ -454,7 +454,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * 
+	 * 上移命令
 	 * 
 	 * @param e
 	 */
@@ -463,7 +463,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * 
+	 * 下移命令
 	 * 
 	 * @param e
 	 */
@@ -472,7 +472,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * ڹر
+	 * 窗口关闭命令
 	 * 
 	 * @param e
 	 */
@@ -481,7 +481,7 @@ public class DialogArgument extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡ
+	 * 取消命令
 	 * 
 	 * @param e
 	 */
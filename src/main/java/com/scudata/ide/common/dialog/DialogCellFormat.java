@@ -17,21 +17,21 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ʽԻ
+ * 格式对话框
  */
 public class DialogCellFormat extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ȷť
+	 * 确定按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * ʽ
+	 * 格式面板
 	 */
 	private PanelCellFormat panelFormat = new PanelCellFormat() {
 		private static final long serialVersionUID = 1L;
@@ -42,19 +42,19 @@ public class DialogCellFormat extends JDialog {
 	};
 
 	/**
-	 * ڹرյĶ
+	 * 窗口关闭的动作
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogCellFormat() {
-		super(GV.appFrame, "ʽ༭", true);
+		super(GV.appFrame, "格式编辑", true);
 		try {
 			initUI();
 			resetLangText();
@@ -67,7 +67,7 @@ public class DialogCellFormat extends JDialog {
 	}
 
 	/**
-	 * øʽ
+	 * 设置格式
 	 * 
 	 * @param format
 	 */
@@ -76,7 +76,7 @@ public class DialogCellFormat extends JDialog {
 	}
 
 	/**
-	 * ȡʽ
+	 * 取格式
 	 * 
 	 * @return
 	 */
@@ -85,7 +85,7 @@ public class DialogCellFormat extends JDialog {
 	}
 
 	/**
-	 * ȡʽ
+	 * 取格式类型
 	 * 
 	 * @return
 	 */
@@ -94,25 +94,25 @@ public class DialogCellFormat extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重新设置语言资源
 	 */
 	private void resetLangText() {
-		this.setTitle(mm.getMessage("dialogcellformat.title")); // ʽ༭
-		jBOK.setText(mm.getMessage("button.ok")); // ȷ(O)
-		jBCancel.setText(mm.getMessage("button.cancel")); // ȡ(C)
+		this.setTitle(mm.getMessage("dialogcellformat.title")); // 格式编辑
+		jBOK.setText(mm.getMessage("button.ok")); // 确定(O)
+		jBCancel.setText(mm.getMessage("button.cancel")); // 取消(C)
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
 	private void initUI() throws Exception {
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogCellFormat_jBOK_actionAdapter(this));
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogCellFormat_jBCancel_actionAdapter(
 				this));
 		JPanel jPanel2 = new JPanel();
@@ -126,7 +126,7 @@ public class DialogCellFormat extends JDialog {
 	}
 
 	/**
-	 * ȡڹرն
+	 * 取窗口关闭动作
 	 * 
 	 * @return
 	 */
@@ -135,7 +135,7 @@ public class DialogCellFormat extends JDialog {
 	}
 
 	/**
-	 * ȷť
+	 * 确定按钮命令
 	 * 
 	 * @param e
 	 */
@@ -146,7 +146,7 @@ public class DialogCellFormat extends JDialog {
 	}
 
 	/**
-	 * ȡť
+	 * 取消按钮命令
 	 * 
 	 * @param e
 	 */
@@ -157,7 +157,7 @@ public class DialogCellFormat extends JDialog {
 	}
 
 	/**
-	 * ڹر
+	 * 窗口关闭命令
 	 * 
 	 * @param e
 	 */
@@ -24,69 +24,69 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ԶԻ
+ * 网格属性对话框
  */
 public class DialogCellSetProperties extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * ǩؼ
+	 * 网格标题标签控件
 	 */
-	private JLabel labelFileTitle = new JLabel("");
+	private JLabel labelFileTitle = new JLabel("标题");
 
 	/**
-	 * ıؼ
+	 * 网格标题文本框控件
 	 */
 	private JTextField tfTitle = new JTextField();
 
 	/**
-	 * ǩؼ
+	 * 网格描述标签控件
 	 */
-	private JLabel labelDesc = new JLabel("");
+	private JLabel labelDesc = new JLabel("描述");
 
 	/**
-	 * ıؼ
+	 * 网格描述文本框控件
 	 */
 	private JTextArea tpDesc = new JTextArea();
 
 	/**
-	 * ڹرѡ
+	 * 窗口关闭选项
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 
 	/**
-	 * ǷԱ༭
+	 * 是否可以编辑
 	 */
 	private boolean editable = false;
 
 	/**
-	 * Եӳ
+	 * 网格属性的映射表
 	 */
 	private ByteMap map;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 */
 	public DialogCellSetProperties(boolean editable) {
-		super(GV.appFrame, "", true);
+		super(GV.appFrame, "属性", true);
 		try {
 			this.editable = editable;
 			initUI();
@@ -102,7 +102,7 @@ public class DialogCellSetProperties extends JDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		tfTitle.setEditable(editable);
@@ -111,7 +111,7 @@ public class DialogCellSetProperties extends JDialog {
 	}
 
 	/**
-	 * ԣʱֻ
+	 * 设置网格属性，暂时只有网格标题和网格描述
 	 * 
 	 * @param properties
 	 */
@@ -131,7 +131,7 @@ public class DialogCellSetProperties extends JDialog {
 	}
 
 	/**
-	 * ȡ
+	 * 取网格属性
 	 * 
 	 * @return
 	 */
@@ -153,7 +153,7 @@ public class DialogCellSetProperties extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
 		this.setTitle(mm.getMessage("dialogcellsetproperties.title"));
@@ -165,17 +165,17 @@ public class DialogCellSetProperties extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
 	private void initUI() throws Exception {
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogCellSetProperties_jBOK_actionAdapter(
 				this));
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogCellSetProperties_jBCancel_actionAdapter(
 				this));
 		JPanel jPanel2 = new JPanel(new VFlowLayout());
@@ -196,7 +196,7 @@ public class DialogCellSetProperties extends JDialog {
 	}
 
 	/**
-	 * شڹرѡ
+	 * 返回窗口关闭选项
 	 * 
 	 * @return
 	 */
@@ -205,7 +205,7 @@ public class DialogCellSetProperties extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -215,7 +215,7 @@ public class DialogCellSetProperties extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -225,7 +225,7 @@ public class DialogCellSetProperties extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -30,53 +30,53 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ԴԻ
+ * 数据源对话框
  *
  */
 public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 	/**
-	 * Դб
+	 * 数据源列表对象
 	 */
 	private DataSourceList jListDS;
 
 	/**
-	 * ½ť
+	 * 新建按钮
 	 */
 	private JButton jBNew = new JButton();
 
 	/**
-	 * ɾť
+	 * 删除按钮
 	 */
 	private JButton jBDelete = new JButton();
 
 	/**
-	 * Ӱť
+	 * 连接按钮
 	 */
 	private JButton jBConnect = new JButton();
 
 	/**
-	 * ϿӰť
+	 * 断开连接按钮
 	 */
 	private JButton jBDisconnect = new JButton();
 
 	/**
-	 * رհť
+	 * 关闭按钮
 	 */
 	private JButton jBClose = new JButton();
 
 	/**
-	 * ༭ť
+	 * 编辑按钮
 	 */
 	private JButton jBEdit = new JButton();
 
 	/**
-	 * Դб
+	 * 数据源列表对象
 	 */
 	private static DataSourceListModel dsModel;
 
@@ -96,7 +96,7 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
 		this.setTitle(mm.getMessage("dialogdatasource.title"));
@@ -110,7 +110,7 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * Serverѡ
+	 * Server被选中
 	 * @param serverName
 	 */
 	protected void serverSelected(String serverName) {
@@ -118,39 +118,39 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
 	private void initUI() throws Exception {
 		JPanel panel1 = new JPanel(new BorderLayout());
 		jBNew.setMnemonic('N');
-		jBNew.setText("½(N)");
+		jBNew.setText("新建(N)");
 		jBNew.addActionListener(new DialogDataSource_jBNew_actionAdapter(this));
 		jBDelete.setMnemonic('D');
-		jBDelete.setText("ɾ(D)");
+		jBDelete.setText("删除(D)");
 		jBDelete.addActionListener(new DialogDataSource_jBDelete_actionAdapter(
 				this));
 		JPanel jPanel1 = new JPanel(new VFlowLayout());
 		jBConnect.setMnemonic('O');
-		jBConnect.setText("(O)");
+		jBConnect.setText("连接(O)");
 		jBConnect
 				.addActionListener(new DialogDataSource_jBConnect_actionAdapter(
 						this));
 		jBDisconnect.setMnemonic('K');
-		jBDisconnect.setText("Ͽ(K)");
+		jBDisconnect.setText("断开(K)");
 		jBDisconnect
 				.addActionListener(new DialogDataSource_jBDisconnect_actionAdapter(
 						this));
 		JLabel jLabel1 = new JLabel();
 		jLabel1.setText(" ");
 		jBClose.setMnemonic('C');
-		jBClose.setText("ر(C)");
+		jBClose.setText("关闭(C)");
 		jBClose.addActionListener(new DialogDataSource_jBClose_actionAdapter(
 				this));
 		jBEdit.setVerifyInputWhenFocusTarget(true);
 		jBEdit.setMnemonic('E');
-		jBEdit.setText("༭(E)");
+		jBEdit.setText("编辑(E)");
 		jBEdit.addActionListener(new DialogDataSource_jBEdit_actionAdapter(this));
 		this.setDefaultCloseOperation(javax.swing.WindowConstants.DO_NOTHING_ON_CLOSE);
 		this.addWindowListener(new DialogDataSource_this_windowAdapter(this));
@@ -181,7 +181,7 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * ½Դ¼
+	 * 新建数据源事件
 	 * 
 	 * @param e
 	 */
@@ -214,7 +214,7 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 
 		int index = jListDS.getSelectedIndex();
 		int size = dsModel.getSize();
-		// жǷ
+		// 判断是否重名
 		if (dsModel.existDSName(ds.getName())) {
 			JOptionPane
 					.showMessageDialog(
@@ -236,7 +236,7 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * ɾԴ¼
+	 * 删除数据源事件
 	 * 
 	 * @param e
 	 */
@@ -281,7 +281,7 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * Դ¼
+	 * 连接数据源事件
 	 * 
 	 * @param e
 	 */
@@ -306,7 +306,7 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * Ͽ¼
+	 * 断开连接事件
 	 * 
 	 * @param e
 	 */
@@ -326,7 +326,7 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * رհť¼
+	 * 关闭按钮事件
 	 * 
 	 * @param e
 	 */
@@ -336,7 +336,7 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * ༭ť¼
+	 * 编辑按钮事件
 	 * 
 	 * @param e
 	 */
@@ -378,12 +378,12 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * Ƿ񱾵Դ
+	 * 是否本地数据源
 	 * 
 	 * @param ds
-	 *            Դ
+	 *            数据源对象
 	 * @param showMessage
-	 *            Ƿʾ쳣Ϣ
+	 *            是否显示异常信息
 	 * @return
 	 */
 	public static boolean isLocalDataSource(DataSource ds, boolean showMessage) {
@@ -412,7 +412,7 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * رմ¼
+	 * 关闭窗口事件
 	 * 
 	 * @param e
 	 */
@@ -422,10 +422,10 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * ʵֽӿIDataSourceEditor.init() -- Դóʼ༭
+	 * 实现接口IDataSourceEditor.init() -- 根据数据源配置初始化编辑器
 	 * 
 	 * @param dsModel
-	 *            Դб
+	 *            数据源列表
 	 */
 	public void init(DataSourceListModel dslm) {
 		try {
@@ -442,22 +442,22 @@ public class DialogDataSource extends JDialog implements IDataSourceEditor {
 	}
 
 	/**
-	 * ʵֽӿIDataSourceEditor.showEditor() -- ʾԴ༭
+	 * 实现接口IDataSourceEditor.showEditor() -- 显示数据源编辑器
 	 */
 	public void showEditor() {
 		this.setVisible(true);
 	}
 
 	/**
-	 * ʵֽӿIDataSourceEditor.isCommitted() -- Ƿύ޸
-	 * ȷ޸ʱŻgetDataSourceListModel()
+	 * 实现接口IDataSourceEditor.isCommitted() -- 是否提交修改
+	 * 确认修改时才会调用getDataSourceListModel()
 	 */
 	public boolean isCommitted() {
 		return true;
 	}
 
 	/**
-	 * ʵֽӿIDataSourceEditor.getDataSourceListModel() -- ȡ༭Դб
+	 * 实现接口IDataSourceEditor.getDataSourceListModel() -- 取编辑后的数据源列表
 	 */
 	public DataSourceListModel getDataSourceListModel() {
 		return dsModel;
@@ -49,157 +49,157 @@ import com.scudata.ide.common.swing.JTableEx;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ݿӶԻ
+ * 数据库连接定义对话框
  * 
- * ܣṩһݿ
+ * 功能：提供参数用来定义一个数据库连接
  */
 public class DialogDataSourcePara extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
-	/**  */
+	/** 序号列 */
 	private final byte COL_INDEX = 0;
-	/**  */
+	/** 名称列 */
 	private final byte COL_NAME = 1;
-	/** ֵ */
+	/** 值列 */
 	private final byte COL_VALUE = 2;
-	/** Ƿ */
+	/** 是否必须列 */
 	private final byte COL_ISNEED = 3;
 
 	/**
-	 * չԱ
+	 * 扩展属性表
 	 */
 	private JTableEx tableExtend = new JTableEx(
 			mm.getMessage("dialogdatasourcepara.colnames"));
 	/**
-	 * ı
+	 * 名称文本框
 	 */
 	private JTextField jTextName = new JTextField();
 
 	/**
-	 * 
+	 * 驱动程序
 	 */
-	private JLabel jLabel7 = new JLabel("");
+	private JLabel jLabel7 = new JLabel("驱动程序");
 
 	/**
-	 * Դ
+	 * 数据源名称
 	 */
-	private JLabel jLabel1 = new JLabel("Դ");
+	private JLabel jLabel1 = new JLabel("数据源名称");
 
 	/**
-	 * ԴURLע滻е
+	 * 数据源URL：注意替换括号中的内容
 	 */
-	private JLabel jLabel3 = new JLabel("ԴURLע滻е");
+	private JLabel jLabel3 = new JLabel("数据源URL：注意替换括号中的内容");
 
 	/**
-	 * û
+	 * 用户
 	 */
-	private JLabel jLabel4 = new JLabel("û");
+	private JLabel jLabel4 = new JLabel("用户");
 
 	/**
-	 * 
+	 * 口令
 	 */
-	private JLabel jLabel5 = new JLabel("");
+	private JLabel jLabel5 = new JLabel("口令");
 
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
-	private JButton jBOK = new JButton("ȷ");
+	private JButton jBOK = new JButton("确定");
 
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
-	private JButton jBCancel = new JButton("ȡ");
+	private JButton jBCancel = new JButton("取消");
 
 	/**
-	 * ɾť
+	 * 删除按钮
 	 */
 	private JButton jBDel = new JButton();
 
 	/**
-	 * Ӱť
+	 * 增加按钮
 	 */
 	private JButton jBAdd = new JButton();
 
 	/**
-	 * ؼ
+	 * 驱动下拉控件
 	 */
 	private JComboBox<String> jComboBoxDriver = new JComboBox<String>();
 
 	/**
-	 * ݿ
+	 * 数据库标题下拉框
 	 */
 	private JComboBox<String> jDBTitles = new JComboBox<String>();
 
 	/**
-	 * URL
+	 * URL下拉框
 	 */
 	private JComboBox<String> jComboBoxURL = new JComboBox<String>();
 
 	/**
-	 * ûı
+	 * 用户名文本框
 	 */
 	private JTextField jTextUser = new JTextField();
 
 	/**
-	 * 
+	 * 密码框
 	 */
 	private JPasswordField jPassword = new JPasswordField();
 
 	/**
-	 * ˳ѡ
+	 * 退出的选项
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 
 	/**
-	 * TAB
+	 * 属性TAB面板
 	 */
 	private JTabbedPane jTabbedPaneAttr = new JTabbedPane();
 	/**
-	 * ǰǷģʽ
+	 * 表名前是否加上模式名
 	 */
 	private JCheckBox jCBUseSchema = new JCheckBox();
 
 	/**
-	 * Դ
+	 * 数据源类型
 	 */
 	private JLabel jLabel6 = new JLabel();
 
 	/**
-	 * Ƿ޶
+	 * 对象名是否带限定符
 	 */
 	private JCheckBox jCBIsAddTilde = new JCheckBox();
 
 	/**
-	 * չԴ
+	 * 扩展属性串
 	 */
 	private String extend;
 
 	/**
-	 * 
+	 * 旧名称
 	 */
 	private String oldName = "";
 
 	/**
-	 * ȡ
+	 * 批量取数的数量
 	 */
 	private JSpinner jSBatchSize = new JSpinner(new SpinnerNumberModel(0, 0,
 			Integer.MAX_VALUE, 1));
 
 	/**
-	 * Ѵڵ
+	 * 已存在的名称
 	 */
 	private Vector<String> existNames;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogDataSourcePara() {
-		super(GV.appFrame, "Դ", true);
+		super(GV.appFrame, "数据源", true);
 		String[] dbTitles = DBTypeEx.listDBTitles();
 		for (int i = 0; i < dbTitles.length; i++) {
 			jDBTitles.addItem(dbTitles[i]);
@@ -217,7 +217,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		TableColumn tc = tableExtend.getColumn(COL_ISNEED);
@@ -234,7 +234,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
 		this.setTitle(mm.getMessage("dialogdatasourcepara.title"));
@@ -258,18 +258,18 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 */
 	private void initUI() {
 		setModal(true);
 		this.getContentPane().setLayout(new BorderLayout());
 		jBOK.setDebugGraphicsOptions(0);
-		jBOK.setActionCommand("ȷ");
+		jBOK.setActionCommand("确定");
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogDataSourcePara_jBOK_actionAdapter(this));
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogDataSourcePara_jBCancel_actionAdapter(
 				this));
 		jDBTitles
@@ -294,26 +294,26 @@ public class DialogDataSourcePara extends JDialog {
 		jScrollPane1.setVerifyInputWhenFocusTarget(true);
 		JPanel jPanelExtend = new JPanel(new BorderLayout());
 		jBDel.setMnemonic('D');
-		jBDel.setText("ɾ(D)");
+		jBDel.setText("删除(D)");
 		jBDel.addActionListener(new DialogDataSourcePara_jBDel_actionAdapter(
 				this));
 		jBAdd.setMnemonic('A');
-		jBAdd.setText("(A)");
+		jBAdd.setText("增加(A)");
 		jBAdd.addActionListener(new DialogDataSourcePara_jBAdd_actionAdapter(
 				this));
 		JPanel jPanel4 = new JPanel(new VFlowLayout());
 		jTabbedPaneAttr
 				.addChangeListener(new DialogDataSourcePara_jTabbedPaneAttr_changeAdapter(
 						this));
-		jCBUseSchema.setText("ʹôģʽı");
-		jLabel6.setText("ݿ");
+		jCBUseSchema.setText("使用带模式的表名称");
+		jLabel6.setText("数据库类型");
 		JPanel jPanel1 = new JPanel();
 		GridLayout gridLayout3 = new GridLayout();
 		gridLayout3.setColumns(2);
 		gridLayout3.setHgap(5);
 		gridLayout3.setRows(2);
 		jPanel1.setLayout(gridLayout3);
-		jCBIsAddTilde.setText("ʹôŵSQL");
+		jCBIsAddTilde.setText("使用带引号的SQL");
 
 		JPanel jPanelGeneral = new JPanel();
 		jPanelGeneral.add(jPanel1, null);
@@ -348,8 +348,8 @@ public class DialogDataSourcePara extends JDialog {
 		jPanelOKCancel.add(jBOK, null);
 		jPanelOKCancel.add(jBCancel, null);
 		this.getContentPane().add(jTabbedPaneAttr, BorderLayout.CENTER);
-		jTabbedPaneAttr.add(jPanelGeneral, "    ");
-		jTabbedPaneAttr.add(jPanelExtend, "  չ  ");
+		jTabbedPaneAttr.add(jPanelGeneral, "  常规属性  ");
+		jTabbedPaneAttr.add(jPanelExtend, "  扩展属性  ");
 		jPanelExtend.add(jScrollPane1, BorderLayout.CENTER);
 		jScrollPane1.getViewport().add(tableExtend, null);
 		jPanelExtend.add(jPanel4, BorderLayout.EAST);
@@ -369,7 +369,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 设置数据源
 	 * 
 	 * @param ds
 	 */
@@ -402,7 +402,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * Ѿڵ
+	 * 设置已经存在的名称
 	 * 
 	 * @param existNames
 	 */
@@ -411,7 +411,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * Ƿ仯
+	 * 名称是否变化
 	 * 
 	 * @return
 	 */
@@ -420,7 +420,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * ȡԴ
+	 * 取数据源
 	 * 
 	 * @return
 	 */
@@ -462,7 +462,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -472,7 +472,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * ѡ¼
+	 * 选择标题事件
 	 * 
 	 * @param e
 	 */
@@ -499,7 +499,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -538,7 +538,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -549,7 +549,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -558,7 +558,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * ѡTAB仯
+	 * 选择的TAB发生变化
 	 * 
 	 * @param e
 	 */
@@ -630,7 +630,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * չԱʧȥ
+	 * 扩展属性表失去焦点后
 	 * 
 	 * @param e
 	 */
@@ -639,7 +639,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * Ӱť¼
+	 * 增加按钮事件
 	 * 
 	 * @param e
 	 */
@@ -649,7 +649,7 @@ public class DialogDataSourcePara extends JDialog {
 	}
 
 	/**
-	 * ɾť¼
+	 * 删除按钮事件
 	 * 
 	 * @param e
 	 */
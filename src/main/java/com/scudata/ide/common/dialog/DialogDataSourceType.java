@@ -22,7 +22,7 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ԴͶԻ
+ * 数据源类型对话框
  *
  */
 public class DialogDataSourceType extends JDialog {
@@ -32,42 +32,42 @@ public class DialogDataSourceType extends JDialog {
 	public static final byte TYPE_RELATIONAL = 0;
 	/** ODBC */
 	public static final byte TYPE_ODBC = 1;
-	/** ESSBASEʱȡ */
+	/** ESSBASE类型暂时取消了 */
 	public static final byte TYPE_ESSBASE = 2;
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CLOSED_OPTION;
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * JDBCť
+	 * JDBC按钮
 	 */
 	private JRadioButton jRBRelational = new JRadioButton();
 	/**
-	 * ODBCť
+	 * ODBC按钮
 	 */
 	private JRadioButton jRBOdbc = new JRadioButton();
 	/**
-	 * ݿ
+	 * 数据库类型
 	 */
 	private TitledBorder titledBorder1;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogDataSourceType() {
-		super(GV.appFrame, "ݿ", true);
+		super(GV.appFrame, "数据库类型", true);
 		try {
 			initUI();
 			resetLangText();
@@ -79,7 +79,7 @@ public class DialogDataSourceType extends JDialog {
 	}
 
 	/**
-	 * ȡڹرѡ
+	 * 取窗口关闭选项
 	 * 
 	 * @return
 	 */
@@ -88,7 +88,7 @@ public class DialogDataSourceType extends JDialog {
 	}
 
 	/**
-	 * ȡԴ
+	 * 取数据源类型
 	 * 
 	 * @return
 	 */
@@ -103,7 +103,7 @@ public class DialogDataSourceType extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
 		this.setTitle(mm.getMessage("dialogdatasourcetype.title"));
@@ -112,17 +112,17 @@ public class DialogDataSourceType extends JDialog {
 		jRBRelational.setText(mm.getMessage("dialogdatasourcetype.relational"));
 		jRBOdbc.setText(mm.getMessage("dialogdatasourcetype.jrbodbc"));
 		titledBorder1.setTitle(mm
-				.getMessage("dialogdatasourcetype.databasetype")); // ݿ
+				.getMessage("dialogdatasourcetype.databasetype")); // 数据库类型
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
 	private void initUI() throws Exception {
 		titledBorder1 = new TitledBorder(BorderFactory.createEtchedBorder(
-				Color.white, new Color(142, 142, 142)), "ݿ");
+				Color.white, new Color(142, 142, 142)), "数据库类型");
 		this.getContentPane().setLayout(new BorderLayout());
 		JPanel panel1 = new JPanel();
 		JPanel jPanel1 = new JPanel();
@@ -130,11 +130,11 @@ public class DialogDataSourceType extends JDialog {
 		panel1.setForeground(Color.black);
 		jBOK.setDefaultCapable(true);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogDataSourceType_jBOK_actionAdapter(this));
 
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.setDefaultCapable(false);
 		jBCancel.addActionListener(new DialogDataSourceType_jBCancel_actionAdapter(
 				this));
@@ -144,12 +144,12 @@ public class DialogDataSourceType extends JDialog {
 		jPanel1.setLayout(new VFlowLayout());
 		jPanel1.setBorder(titledBorder1);
 		jRBRelational.setSelected(true);
-		jRBRelational.setText("ֱϵݿ");
+		jRBRelational.setText("直连关系数据库");
 		jRBRelational
 				.addMouseListener(new DialogDataSourceType_jRBRelational_mouseAdapter(
 						this));
 		this.setResizable(false);
-		jRBOdbc.setText("ODBCԴ");
+		jRBOdbc.setText("ODBC数据源");
 		jRBOdbc.addMouseListener(new DialogDataSourceType_jRBOdbc_mouseAdapter(
 				this));
 		panel1.add(jBOK);
@@ -163,7 +163,7 @@ public class DialogDataSourceType extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -174,7 +174,7 @@ public class DialogDataSourceType extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -185,7 +185,7 @@ public class DialogDataSourceType extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -195,7 +195,7 @@ public class DialogDataSourceType extends JDialog {
 	}
 
 	/**
-	 * ˫JDBCť
+	 * 双击JDBC按钮
 	 * 
 	 * @param e
 	 */
@@ -207,7 +207,7 @@ public class DialogDataSourceType extends JDialog {
 	}
 
 	/**
-	 * ˫ODBCť
+	 * 双击ODBC按钮
 	 * 
 	 * @param e
 	 */
@@ -34,56 +34,56 @@ import com.scudata.ide.common.swing.VFlowLayout;
 import com.scudata.util.CellSetUtil;
 
 /**
- * ļ
+ * 样例文件
  *
  */
 public class DialogDemoFiles extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 򿪰ť
+	 * 打开按钮
 	 */
 	private JButton jBOpen = new JButton();
 
 	/**
-	 * رհť
+	 * 关闭按钮
 	 */
 	private JButton jBClose = new JButton();
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * ؼ
+	 * 树控件
 	 */
 	private JTree m_Tree = new JTree();
 
 	/**
-	 * ༭
+	 * 编辑框
 	 */
 	private JEditorPane tpDesc = new JEditorPane();
 
 	/**
-	 * ļ׺
+	 * 文件后缀
 	 */
 	private String[] fileExts;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogDemoFiles() {
 		this(AppConsts.SPL_FILE_EXTS.split(","));
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param fileExts ļ׺
+	 * @param fileExts 文件后缀
 	 */
 	public DialogDemoFiles(String[] fileExts) {
-		super(GV.appFrame, "ļ", true);
+		super(GV.appFrame, "例子文件", true);
 		try {
 			this.fileExts = fileExts;
 			initUI();
@@ -97,10 +97,10 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * ļб
+	 * 子文件列表
 	 * 
-	 * @param filePath ļ·
-	 * @param fileExts ļ׺
+	 * @param filePath 父文件路径
+	 * @param fileExts 文件后缀
 	 * @return
 	 */
 	private static File[] listSubFiles(String filePath, final String[] fileExts) {
@@ -121,10 +121,10 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * ļ
+	 * 加载子文件
 	 * 
-	 * @param parent   
-	 * @param filePath ļ·
+	 * @param parent   父结点
+	 * @param filePath 文件路径
 	 * @return
 	 */
 	private boolean loadSubFiles(DefaultMutableTreeNode parent, String filePath) {
@@ -171,7 +171,7 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * ļǷ
+	 * 样例文件是否存在
 	 * 
 	 * @param fileExts
 	 * @return
@@ -186,7 +186,7 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * 
+	 * 加载
 	 */
 	private void load() {
 		String filePath = GM.getAbsolutePath("demo/" + GM.getLanguageSuffix().substring(1));
@@ -207,7 +207,7 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
 		this.setTitle(new StringTokenizer(mm.getMessage("menu.help.demofiles"), "(").nextToken());
@@ -216,16 +216,16 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * ʼUI
+	 * 初始化UI
 	 * 
 	 * @throws Exception
 	 */
 	private void initUI() throws Exception {
 		jBOpen.setMnemonic('O');
-		jBOpen.setText("(O)");
+		jBOpen.setText("打开(O)");
 		jBOpen.addActionListener(new DialogDemoFiles_jBOpen_actionAdapter(this));
 		jBClose.setMnemonic('C');
-		jBClose.setText("ر(C)");
+		jBClose.setText("关闭(C)");
 		jBClose.addActionListener(new DialogDemoFiles_jBClose_actionAdapter(this));
 		JPanel jPanel2 = new JPanel();
 		VFlowLayout vFlowLayout1 = new VFlowLayout();
@@ -256,7 +256,7 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -266,7 +266,7 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * 򿪰ť¼
+	 * 打开按钮事件
 	 * 
 	 * @param e
 	 */
@@ -297,7 +297,7 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * رհť¼
+	 * 关闭按钮事件
 	 * 
 	 * @param e
 	 */
@@ -307,7 +307,7 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * ȡǰѡĽ
+	 * 取当前选择的结点
 	 * 
 	 * @return
 	 */
@@ -335,7 +335,7 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * 
+	 * 树结点鼠标点击
 	 * 
 	 * @param e
 	 */
@@ -369,7 +369,7 @@ public class DialogDemoFiles extends JDialog {
 	}
 
 	/**
-	 * ѡ仯
+	 * 树选择结点变化
 	 * 
 	 * @param e
 	 */
@@ -380,31 +380,31 @@ public class DialogDemoFiles extends JDialog {
 }
 
 /**
- * ļ
+ * 文件结点
  *
  */
 class FileNode {
 	/**
-	 * ·
+	 * 路径
 	 */
 	String absolutePath;
 
 	/**
-	 * 
+	 * 标题
 	 */
 	String title;
 
 	/**
-	 * 
+	 * 描述
 	 */
 	String desc;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param absolutePath ·
-	 * @param title        
-	 * @param desc         
+	 * @param absolutePath 路径
+	 * @param title        标题
+	 * @param desc         描述
 	 */
 	public FileNode(String absolutePath, String title, String desc) {
 		this.absolutePath = absolutePath;
@@ -413,7 +413,7 @@ class FileNode {
 	}
 
 	/**
-	 * ȡ·
+	 * 取路径
 	 * 
 	 * @return
 	 */
@@ -422,7 +422,7 @@ class FileNode {
 	}
 
 	/**
-	 * ȡ
+	 * 取标题
 	 * 
 	 * @return
 	 */
@@ -431,7 +431,7 @@ class FileNode {
 	}
 
 	/**
-	 * ȡ
+	 * 取描述
 	 * 
 	 * @return
 	 */
@@ -440,7 +440,7 @@ class FileNode {
 	}
 
 	/**
-	 * תַ
+	 * 转换成字符串
 	 */
 	public String toString() {
 		return title;
@@ -40,76 +40,76 @@ import com.scudata.ide.common.swing.VFlowLayout;
 import com.scudata.util.Variant;
 
 /**
- * ༭
+ * 常量编辑
  *
  */
 public class DialogEditConst extends DialogMaxmizable {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 
 	/**
-	 * ڸʽ
+	 * 日期格式
 	 */
 	private java.text.SimpleDateFormat dateFormatter = new java.text.SimpleDateFormat(
 			Env.getDateFormat());
 
 	/**
-	 * ¼ʽ
+	 * 事件格式
 	 */
 	private java.text.SimpleDateFormat timeFormatter = new java.text.SimpleDateFormat(
 			Env.getDateTimeFormat());
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
-	/** ַ */
+	/** 字符串 */
 	private final String STR_STR = mm.getMessage("dialogeditconst.str");
-	/**  */
+	/** 整数 */
 	private final String STR_INT = mm.getMessage("dialogeditconst.int");
-	/**  */
+	/** 浮点数 */
 	private final String STR_DOUBLE = mm.getMessage("dialogeditconst.double");
-	/**  */
+	/** 日期 */
 	private final String STR_DATE = mm.getMessage("dialogeditconst.date");
-	/** ʱ */
+	/** 日期时间 */
 	private final String STR_DATE_TIME = mm
 			.getMessage("dialogeditconst.datetime");
-	/**  */
+	/** 序列 */
 	private final String STR_SERIES = mm.getMessage("dialogeditconst.series");
-	/**  */
+	/** 序表 */
 	private final String STR_TABLE = mm.getMessage("dialogeditconst.table");
-	/** ʽ */
+	/** 表达式 */
 	private final String STR_EXP = mm.getMessage("dialogeditconst.exp");
 
-	/**  */
+	/** 序号列 */
 	private final byte COL_INDEX = 0;
-	/**  */
+	/** 名称列 */
 	private final byte COL_NAME = 1;
-	/**  */
+	/** 类型列 */
 	private final byte COL_KIND = 2;
-	/** ֵ */
+	/** 值列 */
 	private final byte COL_VALUE = 3;
-	/** ö */
+	/** 配置对象列 */
 	private final byte COL_CONFIG = 4;
-	/** ö */
+	/** 配置对象列名 */
 	private final String STR_PARAM = "COL_CONFIG";
 	/**
-	 * ؼ,,,ֵ,COL_CONFIG
+	 * 常量表格控件。序号,名称,类型,值,COL_CONFIG
 	 */
 	private JTableEx tableConst = new JTableEx(
 			mm.getMessage("dialogeditconst.tableconst") + STR_PARAM) {
 		private static final long serialVersionUID = 1L;
 
 		/**
-		 * ֵ¼
+		 * 设置值的事件
 		 */
 		public void setValueAt(Object aValue, int row, int column) {
 			if (!isItemDataChanged(row, column, aValue)) {
@@ -126,7 +126,7 @@ public class DialogEditConst extends DialogMaxmizable {
 		}
 
 		/**
-		 * ˫¼
+		 * 双击事件
 		 */
 		public void doubleClicked(int xpos, int ypos, int row, int col,
 				MouseEvent e) {
@@ -286,43 +286,43 @@ public class DialogEditConst extends DialogMaxmizable {
 	};
 
 	/**
-	 * Ӱť
+	 * 增加按钮
 	 */
 	private JButton jBAdd = new JButton();
 
 	/**
-	 * ɾť
+	 * 删除按钮
 	 */
 	private JButton jBDel = new JButton();
 
 	/**
-	 * б
+	 * 参数列表对象
 	 */
 	private ParamList pl;
 
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 
 	/**
-	 * Ѿڵ
+	 * 已经存在的名称
 	 */
 	private Vector<String> usedNames = new Vector<String>();
 
 	/**
-	 * 
+	 * 其他参数名称
 	 */
 	private Vector<String> otherNames;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param isGlobal
-	 *            Ƿȫֱ
+	 *            是否全局变量
 	 */
 	public DialogEditConst(boolean isGlobal) {
-		super(GV.appFrame, "༭", true);
+		super(GV.appFrame, "常量编辑", true);
 		try {
 			initUI();
 			init(isGlobal);
@@ -335,13 +335,13 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 * 
 	 * @param isGlobal
 	 */
 	private void resetText(boolean isGlobal) {
 		setTitle(isGlobal ? mm.getMessage("dialogeditconst.title") : mm
-				.getMessage("dialogeditconst.title1")); // ༭
+				.getMessage("dialogeditconst.title1")); // 常量编辑
 		jBOK.setText(mm.getMessage("button.ok"));
 		jBCancel.setText(mm.getMessage("button.cancel"));
 		jBAdd.setText(mm.getMessage("button.add"));
@@ -349,7 +349,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -358,7 +358,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * Ѿڵ
+	 * 设置已经存在的名称
 	 * 
 	 * @param usedNames
 	 */
@@ -367,7 +367,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * òб
+	 * 设置参数列表对象
 	 * 
 	 * @param pl
 	 */
@@ -377,7 +377,7 @@ public class DialogEditConst extends DialogMaxmizable {
 		}
 		this.pl = pl;
 		setParamList2Table(pl);
-		ParamList otherList = new ParamList(); // Param.ARG 
+		ParamList otherList = new ParamList(); // Param.ARG 数据网
 		if (pl != null) {
 			pl.getAllVarParams(otherList);
 			int count = otherList.count();
@@ -388,7 +388,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * òбؼ
+	 * 设置参数列表到表格控件
 	 * 
 	 * @param pl
 	 */
@@ -422,7 +422,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡб
+	 * 取参数列表
 	 * 
 	 * @return
 	 */
@@ -431,7 +431,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡб
+	 * 取参数列表
 	 * 
 	 * @param containTsx
 	 * @return
@@ -494,7 +494,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡ
+	 * 取参数类型
 	 * 
 	 * @param kind
 	 * @return
@@ -514,7 +514,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡ
+	 * 取类型
 	 * 
 	 * @param p
 	 * @return
@@ -544,10 +544,10 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 * 
 	 * @param isGlobal
-	 *            Ƿȫֱ
+	 *            是否全局变量
 	 */
 	private void init(boolean isGlobal) {
 		tableConst.setIndexCol(COL_INDEX);
@@ -584,7 +584,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -593,10 +593,10 @@ public class DialogEditConst extends DialogMaxmizable {
 		VFlowLayout vFlowLayout1 = new VFlowLayout();
 		jPanel2.setLayout(vFlowLayout1);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogEditConst_jBOK_actionAdapter(this));
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogEditConst_jBCancel_actionAdapter(
 				this));
 		jBAdd.addActionListener(new DialogEditConst_jBAdd_actionAdapter(this));
@@ -612,9 +612,9 @@ public class DialogEditConst extends DialogMaxmizable {
 		jButton1.setBorder(null);
 		jPanel3.setLayout(borderLayout1);
 		jBAdd.setMnemonic('A');
-		jBAdd.setText("(A)");
+		jBAdd.setText("增加(A)");
 		jBDel.setMnemonic('D');
-		jBDel.setText("ɾ(D)");
+		jBDel.setText("删除(D)");
 		this.getContentPane().add(jPanel3, BorderLayout.CENTER);
 		this.getContentPane().add(jPanel2, BorderLayout.EAST);
 		jPanel2.add(jBOK, null);
@@ -630,7 +630,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -640,14 +640,14 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * 
+	 * 检查数据
 	 * 
 	 * @return
 	 */
 	private boolean checkData() {
 		tableConst.acceptText();
 		if (!tableConst
-				.verifyColumnData(COL_NAME, mm.getMessage("public.name"))) { // 
+				.verifyColumnData(COL_NAME, mm.getMessage("public.name"))) { // 名称
 			return false;
 		}
 		int count = tableConst.getRowCount();
@@ -658,19 +658,19 @@ public class DialogEditConst extends DialogMaxmizable {
 			name = (String) tableConst.data.getValueAt(i, COL_NAME);
 			if (usedNames.contains(name)) {
 				JOptionPane.showMessageDialog(GV.appFrame, mm.getMessage(
-						"dialogeditconst.existname", i + 1 + "", name)); // {0}в{1}Ѿڡ
+						"dialogeditconst.existname", i + 1 + "", name)); // 第{0}行参数名：{1}已经存在。
 				return false;
 			}
 			kind = ((Byte) tableConst.data.getValueAt(i, COL_KIND)).byteValue();
 			val = tableConst.data.getValueAt(i, COL_VALUE);
 			if (val == null) {
 				JOptionPane.showMessageDialog(GV.appFrame,
-						mm.getMessage("dialogeditconst.emptyval", i + 1 + "")); // {0}вֵΪա
+						mm.getMessage("dialogeditconst.emptyval", i + 1 + "")); // 第{0}行参数值为空。
 				return false;
 			}
 			String strKind = "";
 			String message = mm.getMessage("dialogeditconst.notvalid", i + 1
-					+ ""); // {0}вֵӦΪ
+					+ ""); // 第{0}行参数值类型应该为：
 			try {
 				switch (kind) {
 				case GC.KIND_INT:
@@ -692,14 +692,14 @@ public class DialogEditConst extends DialogMaxmizable {
 					}
 					if (!(val instanceof Sequence)) {
 						JOptionPane.showMessageDialog(GV.appFrame, message
-								+ STR_SERIES); // {0}вֵӦΪ
+								+ STR_SERIES); // 第{0}行参数值类型应该为：序列
 						return false;
 					}
 					break;
 				case GC.KIND_TABLE:
 					if (!(val instanceof Table)) {
 						JOptionPane.showMessageDialog(GV.appFrame, message
-								+ STR_TABLE); // {0}вֵӦΪ
+								+ STR_TABLE); // 第{0}行参数值类型应该为：序表
 						return false;
 					}
 					break;
@@ -713,7 +713,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param ae
 	 */
@@ -727,7 +727,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -737,7 +737,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * Ӱť¼
+	 * 增加按钮事件
 	 * 
 	 * @param e
 	 */
@@ -760,7 +760,7 @@ public class DialogEditConst extends DialogMaxmizable {
 	}
 
 	/**
-	 * ɾť¼
+	 * 删除按钮事件
 	 * 
 	 * @param e
 	 */
@@ -18,58 +18,58 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * б༭Ի
+ * 序列编辑对话框
  *
  */
 public class DialogEditSeries extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 	/**
-	 * 
+	 * 序列面板
 	 */
 	private PanelSeries panelSeries = new PanelSeries();
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * Ӱť
+	 * 增加按钮
 	 */
 	private JButton jBAdd = new JButton();
 	/**
-	 * ɾť
+	 * 删除按钮
 	 */
 	private JButton jBDel = new JButton();
 	/**
-	 * 밴ť
+	 * 插入按钮
 	 */
 	private JButton jBInsert = new JButton();
 	/**
-	 * ưť
+	 * 上移按钮
 	 */
 	private JButton jBUp = new JButton();
 	/**
-	 * ưť
+	 * 下移按钮
 	 */
 	private JButton jBDown = new JButton();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogEditSeries() {
-		super(GV.appFrame, "б༭", true);
+		super(GV.appFrame, "序列编辑", true);
 		try {
 			initUI();
 			setSize(400, 300);
@@ -81,10 +81,10 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetText() {
-		setTitle(mm.getMessage("dialogeditseries.title")); // б༭
+		setTitle(mm.getMessage("dialogeditseries.title")); // 序列编辑
 		jBOK.setText(mm.getMessage("button.ok"));
 		jBCancel.setText(mm.getMessage("button.cancel"));
 		jBAdd.setText(mm.getMessage("button.add"));
@@ -96,7 +96,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -105,7 +105,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * ж
+	 * 设置序列对象
 	 * 
 	 * @param param
 	 */
@@ -114,7 +114,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * ȡж
+	 * 取序列对象
 	 * 
 	 * @return
 	 */
@@ -123,35 +123,35 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
 	private void initUI() throws Exception {
 		JPanel jPanel2 = new JPanel(new VFlowLayout());
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogEditSeries_jBOK_actionAdapter(this));
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogEditSeries_jBCancel_actionAdapter(
 				this));
 		jBAdd.setMnemonic('A');
-		jBAdd.setText("(A)");
+		jBAdd.setText("增加(A)");
 		jBAdd.addActionListener(new DialogEditSeries_jBAdd_actionAdapter(this));
 		jBDel.setMnemonic('D');
-		jBDel.setText("ɾ(D)");
+		jBDel.setText("删除(D)");
 		jBDel.addActionListener(new DialogEditSeries_jBDel_actionAdapter(this));
 		this.setDefaultCloseOperation(javax.swing.WindowConstants.DO_NOTHING_ON_CLOSE);
 		this.addWindowListener(new DialogEditSeries_this_windowAdapter(this));
 		jBUp.setMnemonic('U');
-		jBUp.setText("(U)");
+		jBUp.setText("上移(U)");
 		jBUp.addActionListener(new DialogEditSeries_jBUp_actionAdapter(this));
 		jBDown.setMnemonic('W');
-		jBDown.setText("(W)");
+		jBDown.setText("下移(W)");
 		jBDown.addActionListener(new DialogEditSeries_jBDown_actionAdapter(this));
 		jBInsert.setMnemonic('I');
-		jBInsert.setText("(I)");
+		jBInsert.setText("插入(I)");
 		jBInsert.addActionListener(new DialogEditSeries_jBInsert_actionAdapter(
 				this));
 		this.getContentPane().add(panelSeries, BorderLayout.CENTER);
@@ -167,7 +167,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -181,7 +181,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -191,7 +191,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * Ӱť¼
+	 * 增加按钮事件
 	 * 
 	 * @param e
 	 */
@@ -200,7 +200,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * ɾť¼
+	 * 删除按钮事件
 	 * 
 	 * @param e
 	 */
@@ -209,7 +209,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -219,7 +219,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * ưť¼
+	 * 上移按钮事件
 	 * 
 	 * @param e
 	 */
@@ -228,7 +228,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * ưť¼
+	 * 下移按钮事件
 	 * 
 	 * @param e
 	 */
@@ -237,7 +237,7 @@ public class DialogEditSeries extends JDialog {
 	}
 
 	/**
-	 * 밴ť¼
+	 * 插入按钮事件
 	 * 
 	 * @param e
 	 */
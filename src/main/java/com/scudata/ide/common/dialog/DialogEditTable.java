@@ -18,61 +18,61 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ༭Ի
+ * 序表编辑对话框
  *
  */
 public class DialogEditTable extends JDialog {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * ༭
+	 * 序表编辑面板
 	 */
 	private PanelEditTable panelTable;
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * Ӱť
+	 * 增加按钮
 	 */
 	private JButton jBAdd = new JButton();
 	/**
-	 * ɾť
+	 * 删除按钮
 	 */
 	private JButton jBDel = new JButton();
 	/**
-	 * 밴ť
+	 * 插入按钮
 	 */
 	private JButton jBInsert = new JButton();
 	/**
-	 * ưť
+	 * 上移按钮
 	 */
 	private JButton jBUp = new JButton();
 	/**
-	 * ưť
+	 * 下移按钮
 	 */
 	private JButton jBDown = new JButton();
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param param
-	 *            
+	 *            变量对象
 	 */
 	public DialogEditTable(Param param) {
-		super(GV.appFrame, "༭", true);
+		super(GV.appFrame, "序表编辑", true);
 		try {
 			panelTable = new PanelEditTable(param);
 			initUI();
@@ -85,10 +85,10 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetText() {
-		setTitle(mm.getMessage("dialogedittable.title")); // б༭
+		setTitle(mm.getMessage("dialogedittable.title")); // 序列编辑
 		jBOK.setText(mm.getMessage("button.ok"));
 		jBCancel.setText(mm.getMessage("button.cancel"));
 		jBAdd.setText(mm.getMessage("button.add"));
@@ -99,7 +99,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -108,7 +108,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * ȡ
+	 * 取变量
 	 * 
 	 * @return
 	 */
@@ -117,7 +117,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -127,28 +127,28 @@ public class DialogEditTable extends JDialog {
 		VFlowLayout vFlowLayout1 = new VFlowLayout();
 		jPanel2.setLayout(vFlowLayout1);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogEditTable_jBOK_actionAdapter(this));
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogEditTable_jBCancel_actionAdapter(
 				this));
 		jBAdd.setMnemonic('A');
-		jBAdd.setText("(A)");
+		jBAdd.setText("增加(A)");
 		jBAdd.addActionListener(new DialogEditTable_jBAdd_actionAdapter(this));
 		jBDel.setMnemonic('D');
-		jBDel.setText("ɾ(D)");
+		jBDel.setText("删除(D)");
 		jBDel.addActionListener(new DialogEditTable_jBDel_actionAdapter(this));
 		this.setDefaultCloseOperation(javax.swing.WindowConstants.DO_NOTHING_ON_CLOSE);
 		this.addWindowListener(new DialogEditTable_this_windowAdapter(this));
 		jBUp.setMnemonic('U');
-		jBUp.setText("(U)");
+		jBUp.setText("上移(U)");
 		jBUp.addActionListener(new DialogEditTable_jBUp_actionAdapter(this));
 		jBDown.setMnemonic('W');
-		jBDown.setText("(W)");
+		jBDown.setText("下移(W)");
 		jBDown.addActionListener(new DialogEditTable_jBDown_actionAdapter(this));
 		jBInsert.setMnemonic('I');
-		jBInsert.setText("(I)");
+		jBInsert.setText("插入(I)");
 		jBInsert.addActionListener(new DialogEditTable_jBInsert_actionAdapter(
 				this));
 		this.getContentPane().add(panelTable, BorderLayout.CENTER);
@@ -164,7 +164,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -178,7 +178,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -188,7 +188,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * Ӱť¼
+	 * 增加按钮事件
 	 * 
 	 * @param e
 	 */
@@ -197,7 +197,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * ɾť¼
+	 * 删除按钮事件
 	 * 
 	 * @param e
 	 */
@@ -206,7 +206,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -216,7 +216,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * ưť¼
+	 * 上移按钮事件
 	 * 
 	 * @param e
 	 */
@@ -225,7 +225,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * ưť¼
+	 * 下移按钮事件
 	 * 
 	 * @param e
 	 */
@@ -234,7 +234,7 @@ public class DialogEditTable extends JDialog {
 	}
 
 	/**
-	 * 밴ť¼
+	 * 插入按钮事件
 	 * 
 	 * @param e
 	 */
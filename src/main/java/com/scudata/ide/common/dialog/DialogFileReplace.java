@@ -34,40 +34,40 @@ import com.scudata.ide.spl.GMSpl;
 import com.scudata.util.CellSetUtil;
 
 /**
- * ļв/滻Ի
+ * 在文件中查找/替换对话框
  *
  */
 public abstract class DialogFileReplace extends RQDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ؼ
+	 * 父控件
 	 */
 	private Frame owner;
 	/**
-	 * CommonԴ
+	 * Common语言资源
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 	/**
-	 * ַ
+	 * 搜索字符串
 	 */
 	private String searchString = "";
 	/**
-	 * 滻ַ
+	 * 替换字符串
 	 */
 	private String replaceString = "";
 	/**
-	 * ѡ
+	 * 搜索的选项
 	 */
 	private int searchFlag = 0;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param owner ؼ
+	 * @param owner 父控件
 	 */
 	public DialogFileReplace(Frame owner) {
-		super(owner, "ļв/滻", 600, 500);
+		super(owner, "在文件中查找/替换", 600, 500);
 		try {
 			this.owner = owner;
 			setTitle(mm.getMessage("dialogfilereplace.title"));
@@ -79,7 +79,7 @@ public abstract class DialogFileReplace extends RQDialog {
 	}
 
 	/**
-	 * ȡ
+	 * 读取加密网格
 	 * @param buf
 	 * @return
 	 */
@@ -87,7 +87,7 @@ public abstract class DialogFileReplace extends RQDialog {
 			String fileName, StringBuffer buf) throws Exception;
 
 	/**
-	 * ȡļб
+	 * 取文件列表
 	 * 
 	 * @return
 	 */
@@ -95,42 +95,42 @@ public abstract class DialogFileReplace extends RQDialog {
 		String sDir = jTFDir.getText();
 		if (!StringUtils.isValidString(sDir)) {
 			JOptionPane.showMessageDialog(owner,
-					mm.getMessage("dialogfilereplace.selectdir")); // ѡļĿ¼
+					mm.getMessage("dialogfilereplace.selectdir")); // 请选择文件所在目录。
 			return null;
 		}
 		File dir = new File(sDir);
 		if (!dir.exists()) {
 			JOptionPane.showMessageDialog(owner,
-					mm.getMessage("dialogfilereplace.dirnotexists", sDir)); // Ŀ¼{0}ڡ
+					mm.getMessage("dialogfilereplace.dirnotexists", sDir)); // 目录：{0}不存在。
 			return null;
 		}
 		if (!dir.isDirectory()) {
 			JOptionPane.showMessageDialog(owner,
-					mm.getMessage("dialogfilereplace.notdir", sDir)); // {0}һĿ¼
+					mm.getMessage("dialogfilereplace.notdir", sDir)); // {0}不是一个目录。
 			return null;
 		}
 		File[] subFiles = dir.listFiles();
 		if (subFiles == null || subFiles.length == 0) {
 			JOptionPane.showMessageDialog(owner,
-					mm.getMessage("dialogfilereplace.nofilefound")); // Ŀ¼ûвҵļ
+					mm.getMessage("dialogfilereplace.nofilefound")); // 目录下没有查找到文件。
 			return null;
 		}
 		List<File> files = new ArrayList<File>();
 		getSubFiles(dir, files, jCBSub.isSelected());
 		if (files.isEmpty()) {
 			JOptionPane.showMessageDialog(owner,
-					mm.getMessage("dialogfilereplace.nofilefound")); // Ŀ¼ûвҵļ
+					mm.getMessage("dialogfilereplace.nofilefound")); // 目录下没有查找到文件。
 			return null;
 		}
 		return files;
 	}
 
 	/**
-	 * ȡĿ¼ļ
+	 * 取目录下文件
 	 * 
-	 * @param dir   Ŀ¼
-	 * @param files ļб
-	 * @param isSub ǷĿ¼
+	 * @param dir   目录
+	 * @param files 文件列表容器
+	 * @param isSub 是否包含子目录
 	 */
 	private void getSubFiles(File dir, List<File> files, boolean isSub) {
 		File[] subFiles = dir.listFiles();
@@ -151,7 +151,7 @@ public abstract class DialogFileReplace extends RQDialog {
 	}
 
 	/**
-	 * ѡ
+	 * 设置搜索选项
 	 */
 	private void setSearchConfig() {
 		searchString = jTFSearch.getText();
@@ -172,15 +172,15 @@ public abstract class DialogFileReplace extends RQDialog {
 	}
 
 	/**
-	 * 
+	 * 查找
 	 * 
-	 * @param isReplace Ƿ滻
+	 * @param isReplace 是否替换
 	 */
 	private void search(boolean isReplace) {
 		setSearchConfig();
 		if (searchString == null || "".equals(searchString)) {
 			JOptionPane.showMessageDialog(owner,
-					mm.getMessage("dialogfilereplace.searchnull")); // ݲΪա
+					mm.getMessage("dialogfilereplace.searchnull")); // 查找内容不能为空。
 			return;
 		}
 		List<File> files = getFiles();
@@ -197,12 +197,12 @@ public abstract class DialogFileReplace extends RQDialog {
 				String fileName = getFileName(sDir, filePath);
 				if (!f.canRead()) {
 					buf.append(mm.getMessage("dialogfilereplace.cannotread",
-							fileName)); // ļ{0}ûжȡȨޡ
+							fileName)); // 文件：{0}没有读取权限。
 					continue;
 				}
 				if (isReplace && !f.canWrite()) {
 					buf.append(mm.getMessage("dialogfilereplace.cannotwrite",
-							fileName)); // ļ{0}ûдȨޡ
+							fileName)); // 文件：{0}没有写入权限。
 					continue;
 				}
 				boolean isSplFile = filePath.toLowerCase().endsWith(
@@ -254,11 +254,11 @@ public abstract class DialogFileReplace extends RQDialog {
 					}
 					writeMessage(buf, mm.getMessage(
 							"dialogfilereplace.replacecount", fileName,
-							searchCount));// ļ{0}滻{1}Ԫ
+							searchCount));// 文件：{0}中替换了{1}个单元格。
 				} else {
 					writeMessage(buf, mm.getMessage(
 							"dialogfilereplace.searchcount", fileName,
-							searchCount));// ļ{0}вҵ{1}Ԫ
+							searchCount));// 文件：{0}中查找到了{1}个单元格。
 				}
 			}
 			jTAMessage.setText(buf.toString());
@@ -269,7 +269,7 @@ public abstract class DialogFileReplace extends RQDialog {
 	}
 
 	/**
-	 * дϢ
+	 * 写出信息
 	 * 
 	 * @param buf
 	 * @param message
@@ -282,7 +282,7 @@ public abstract class DialogFileReplace extends RQDialog {
 	}
 
 	/**
-	 * ȡļ
+	 * 取文件名
 	 * 
 	 * @param sDir
 	 * @param filePath
@@ -313,7 +313,7 @@ public abstract class DialogFileReplace extends RQDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		panelCenter.setLayout(new GridBagLayout());
@@ -341,7 +341,7 @@ public abstract class DialogFileReplace extends RQDialog {
 
 		JPanel panelOpt = new JPanel(new GridLayout(2, 2));
 		panelOpt.setBorder(BorderFactory.createTitledBorder(mm
-				.getMessage("dialogfilereplace.option"))); // ѡ
+				.getMessage("dialogfilereplace.option"))); // 选项
 		panelOpt.add(jCBSensitive);
 		panelOpt.add(jCBWordOnly);
 		panelOpt.add(jCBQuote);
@@ -358,10 +358,10 @@ public abstract class DialogFileReplace extends RQDialog {
 		jTAMessage.setLineWrap(true);
 		jTAMessage.setEditable(false);
 		this.remove(panelSouth);
-		jCBSensitive.setText(mm.getMessage("dialogfilereplace.sensitive")); // ִСд
-		jCBWordOnly.setText(mm.getMessage("dialogfilereplace.wordonly")); // 
-		jCBQuote.setText(mm.getMessage("dialogfilereplace.quote")); // е
-		jCBPars.setText(mm.getMessage("dialogfilereplace.pars")); // Բе
+		jCBSensitive.setText(mm.getMessage("dialogfilereplace.sensitive")); // 区分大小写
+		jCBWordOnly.setText(mm.getMessage("dialogfilereplace.wordonly")); // 仅搜索独立单词
+		jCBQuote.setText(mm.getMessage("dialogfilereplace.quote")); // 忽略引号中单词
+		jCBPars.setText(mm.getMessage("dialogfilereplace.pars")); // 忽略圆括号中单词
 
 		jBDir.addActionListener(new ActionListener() {
 
@@ -392,74 +392,74 @@ public abstract class DialogFileReplace extends RQDialog {
 	}
 
 	/**
-	 * ļ
+	 * 文件类型
 	 */
 	private final String[] FILE_TYPES = AppConsts.SPL_FILE_EXTS.split(",");
 	/**
-	 * Ŀ¼
+	 * 目录
 	 */
 	private JLabel jLDir = new JLabel(mm.getMessage("dialogfilereplace.dir"));
 	/**
-	 * Ŀ¼ı
+	 * 目录文本框
 	 */
 	private JTextField jTFDir = new JTextField();
 	/**
-	 * ѡĿ¼
+	 * 选择目录
 	 */
 	private JButton jBDir = new JButton(
 			mm.getMessage("dialogfilereplace.dirbutton"));
 
 	/**
-	 * ǷĿ¼
+	 * 是否包含子目录
 	 */
 	private JCheckBox jCBSub = new JCheckBox(
 			mm.getMessage("dialogfilereplace.containssub"));
 	/**
-	 * 
+	 * 查找内容
 	 */
 	private JLabel jLSearch = new JLabel(
 			mm.getMessage("dialogfilereplace.searchstr"));
 	/**
-	 * ı
+	 * 查找内容文本框
 	 */
 	private JTextField jTFSearch = new JTextField();
 	/**
-	 * Ұť
+	 * 查找按钮
 	 */
 	private JButton jBSearch = new JButton(
 			mm.getMessage("dialogfilereplace.searchbutton"));
 	/**
-	 * 滻Ϊ
+	 * 替换为
 	 */
 	private JLabel jLReplace = new JLabel(
 			mm.getMessage("dialogfilereplace.replaceto"));
 	/**
-	 * 滻ı
+	 * 替换文本框
 	 */
 	private JTextField jTFReplace = new JTextField();
 	/**
-	 * 滻ť
+	 * 替换按钮
 	 */
 	private JButton jBReplace = new JButton(
 			mm.getMessage("dialogfilereplace.replacebutton"));
 	/**
-	 * ǷСд
+	 * 是否大小写敏感
 	 */
 	private JCheckBox jCBSensitive = new JCheckBox();
 	/**
-	 * Ƿ
+	 * 是否搜索独立单词
 	 */
 	private JCheckBox jCBWordOnly = new JCheckBox();
 	/**
-	 * Ƿ
+	 * 是否忽略引号内
 	 */
 	private JCheckBox jCBQuote = new JCheckBox();
 	/**
-	 * Ƿ
+	 * 是否忽略括号内
 	 */
 	private JCheckBox jCBPars = new JCheckBox();
 	/**
-	 * Ϣı
+	 * 信息文本框
 	 */
 	private JTextArea jTAMessage = new JTextArea();
 
@@ -28,37 +28,37 @@ import com.scudata.ide.common.swing.VFlowLayout;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * Ի
+ * 输入参数对话框
  *
  */
 public class DialogInputArgument extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
-	/** ʾ */
+	/** 显示名称列 */
 	private final int COL_DISP = 0;
-	/** ֵ */
+	/** 数值列 */
 	private final int COL_VALUE = 1;
-	/**  */
+	/** 名称列 */
 	private final int COL_NAME = 2;
-	/** ˵ */
+	/** 中文说明 */
 	private final String TITLE_DISP = mm.getMessage("dialoginputargument.name");
-	/** ֵ */
+	/** 数值列 */
 	private final String TITLE_VALUE = mm
 			.getMessage("dialoginputargument.value");
-	/** ʵ */
+	/** 真实名称 */
 	private final String TITLE_NAME = "TITLE_NAME";
 
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CLOSED_OPTION;
 
 	/**
-	 * ؼ
+	 * 参数表格控件
 	 */
 	private JTableEx paraTable = new JTableEx(new String[] { TITLE_DISP,
 			TITLE_VALUE, TITLE_NAME }) {
@@ -74,22 +74,22 @@ public class DialogInputArgument extends JDialog {
 	};
 
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param ctx
-	 *            
+	 *            上下文
 	 */
 	public DialogInputArgument(Context ctx) {
-		super(GV.appFrame, "òֵ˫ֵе༭ڡ", true);
+		super(GV.appFrame, "设置参数值〔双击数值列弹出编辑窗口〕", true);
 		try {
 			initUI();
 			setSize(400, 300);
@@ -102,16 +102,16 @@ public class DialogInputArgument extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetText() {
-		setTitle(mm.getMessage("dialoginputargument.title")); // òֵ˫ֵе༭ڡ
+		setTitle(mm.getMessage("dialoginputargument.title")); // 设置参数值〔双击数值列弹出编辑窗口〕
 		jBOK.setText(mm.getMessage("button.ok"));
 		jBCancel.setText(mm.getMessage("button.cancel"));
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -120,10 +120,10 @@ public class DialogInputArgument extends JDialog {
 	}
 
 	/**
-	 * Ƿɱ༭
+	 * 设置是否可编辑
 	 * 
 	 * @param editable
-	 *            Ƿɱ༭
+	 *            是否可编辑
 	 */
 	public void setEditable(boolean editable) {
 		if (!editable) {
@@ -132,7 +132,7 @@ public class DialogInputArgument extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -145,11 +145,11 @@ public class DialogInputArgument extends JDialog {
 		paraTable.setCellSelectionEnabled(false);
 		jBOK.setDefaultCapable(true);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogInputArgument_jBOK_actionAdapter(this));
 
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.setDefaultCapable(false);
 		jBCancel.addActionListener(new DialogInputArgument_jBCancel_actionAdapter(
 				this));
@@ -168,7 +168,7 @@ public class DialogInputArgument extends JDialog {
 	}
 
 	/**
-	 * òб
+	 * 设置参数列表
 	 * 
 	 * @param paras
 	 */
@@ -191,7 +191,7 @@ public class DialogInputArgument extends JDialog {
 	}
 
 	/**
-	 * ȡֵӳ
+	 * 取参数键值映射
 	 * 
 	 * @return
 	 */
@@ -200,12 +200,12 @@ public class DialogInputArgument extends JDialog {
 	}
 
 	/**
-	 * ֵӳ
+	 * 参数键值映射
 	 */
 	private HashMap<String, Object> paramMap = null;
 
 	/**
-	 * ȡֵӳ
+	 * 取参数键值映射
 	 * 
 	 * @return
 	 */
@@ -214,7 +214,7 @@ public class DialogInputArgument extends JDialog {
 		String name; // , value
 		paraTable.acceptText();
 		Object o;
-		// ȡֵ
+		// 取参数的值
 		for (int i = 0; i < paraTable.getRowCount(); ++i) {
 			o = paraTable.data.getValueAt(i, COL_NAME);
 			if (o == null)
@@ -223,7 +223,7 @@ public class DialogInputArgument extends JDialog {
 			o = paraTable.data.getValueAt(i, COL_VALUE);
 			if (StringUtils.isValidString(o)) {
 				try {
-					// ȷʱԲ׽쳣
+					// 在确认时解析参数，可以捕捉异常
 					o = PgmNormalCell.parseConstValue((String) o);
 				} catch (Exception ex) {
 					paraTable.selectRow(i);
@@ -244,7 +244,7 @@ public class DialogInputArgument extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -260,7 +260,7 @@ public class DialogInputArgument extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -271,7 +271,7 @@ public class DialogInputArgument extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -20,73 +20,73 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ıԻ
+ * 文本对话框
  *
  */
 public class DialogInputText extends DialogMaxmizable {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	public JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	public JButton jBCancel = new JButton();
 	/**
-	 * ưť
+	 * 复制按钮
 	 */
 	public JButton jBCopy = new JButton();
 	/**
-	 * ճť
+	 * 粘贴按钮
 	 */
 	public JButton jBPaste = new JButton();
 
 	/**
-	 * ı༭ؼ
+	 * 文本编辑控件
 	 */
 	public JEditorPane jTextPane1 = new JEditorPane();
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	protected int m_option = JOptionPane.CLOSED_OPTION;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 */
 	public DialogInputText(boolean editable) {
 		this(GV.appFrame, editable);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param frame
-	 *            
+	 *            父组件
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 */
 	public DialogInputText(Frame frame, boolean editable) {
 		this(frame, IdeCommonMessage.get().getMessage(
-				"dialoginputtext.texteditbox"), editable); // ı༭
+				"dialoginputtext.texteditbox"), editable); // 文本编辑框
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param frame
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 */
 	public DialogInputText(Frame frame, String title, boolean editable) {
 		super(frame, title, true);
@@ -94,12 +94,12 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param frame
-	 *            
+	 *            父组件
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 */
 	public DialogInputText(Dialog parent, boolean editable) {
 		super(parent, IdeCommonMessage.get().getMessage(
@@ -108,7 +108,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * ʼԻ
+	 * 初始化对话框
 	 * 
 	 * @param editable
 	 */
@@ -125,7 +125,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -134,7 +134,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * ı
+	 * 设置文本
 	 * 
 	 * @param text
 	 */
@@ -144,7 +144,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡı
+	 * 取文本
 	 * 
 	 * @return
 	 */
@@ -153,7 +153,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * øı
+	 * 设置富文本
 	 * 
 	 * @param url
 	 */
@@ -169,7 +169,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * ֻʾرպ͸ưť
+	 * 只显示关闭和复制按钮
 	 */
 	public void setMessageMode() {
 		jBOK.setEnabled(false);
@@ -181,7 +181,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 * 
 	 * @param editable
 	 */
@@ -196,7 +196,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -208,18 +208,18 @@ public class DialogInputText extends DialogMaxmizable {
 		VFlowLayout vFlowLayout1 = new VFlowLayout();
 		panel1.setLayout(borderLayout1);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogInputText_jBOK_actionAdapter(this));
 		jPanel1.setLayout(vFlowLayout1);
 		jBCancel.setMnemonic('X');
-		jBCancel.setText("ȡ(X)");
+		jBCancel.setText("取消(X)");
 		jBCancel.addActionListener(new DialogInputText_jBCancel_actionAdapter(
 				this));
 		jBCopy.setMnemonic('C');
-		jBCopy.setText("(C)");
+		jBCopy.setText("复制(C)");
 		jBCopy.addActionListener(new DialogInputText_jBCopy_actionAdapter(this));
 		jBPaste.setMnemonic('P');
-		jBPaste.setText("ճ(P)");
+		jBPaste.setText("粘贴(P)");
 		jBPaste.addActionListener(new DialogInputText_jBPaste_actionAdapter(
 				this));
 		getContentPane().add(panel1);
@@ -233,7 +233,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 * 
 	 * @param e
 	 */
@@ -243,7 +243,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * ȡť
+	 * 取消按钮
 	 * 
 	 * @param e
 	 */
@@ -253,7 +253,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * ưť
+	 * 复制按钮
 	 * 
 	 * @param e
 	 */
@@ -262,7 +262,7 @@ public class DialogInputText extends DialogMaxmizable {
 	}
 
 	/**
-	 * ճť
+	 * 粘贴按钮
 	 * 
 	 * @param e
 	 */
@@ -7,22 +7,22 @@ import java.awt.Frame;
 import javax.swing.JDialog;
 
 /**
- * 󻯴ڻ
+ * 最大化窗口基类
  *
  */
 public class DialogMaxmizable extends JDialog {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * ɳߴ
+	 * 旧尺寸
 	 */
 	public Dimension oldSize = null;
 	/**
-	 * Ƿ
+	 * 是否最大化
 	 */
 	public boolean isMaxized = false;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param frame
 	 * @param title
@@ -33,7 +33,7 @@ public class DialogMaxmizable extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param parent
 	 * @param title
@@ -25,7 +25,7 @@ import com.scudata.ide.common.swing.FreeLayout;
 import com.scudata.ide.common.swing.MemoryMonitor;
 
 /**
- * ڴԻ
+ * 清理内存对话框
  *
  */
 public class DialogMemory extends JDialog {
@@ -34,50 +34,50 @@ public class DialogMemory extends JDialog {
 	private JButton jBCancel = new JButton();
 	private JButton jBClean = new JButton();
 	/**
-	 * ռõڴ
+	 * 虚拟机占用的内存
 	 */
 	private JLabel jLabel1 = new JLabel();
 	/**
-	 * ʾʽ
+	 * 显示格式
 	 */
 	private DecimalFormat df = new DecimalFormat("###,###");
 	/**
-	 * ڴı
+	 * 总内存文本框
 	 */
 	private JFormattedTextField jTFTotal = new JFormattedTextField();
 	/**
-	 * õڴ
+	 * 可用的最大内存数
 	 */
 	private JLabel jLabel2 = new JLabel();
 	/**
-	 * õڴı
+	 * 可用的最大内存数文本框
 	 */
 	private JFormattedTextField jTFMax = new JFormattedTextField();
 	/**
-	 * Ӧʹ˵ڴ
+	 * 应用使用了的内存
 	 */
 	private JLabel jLabel3 = new JLabel();
 	/**
-	 * ڴı
+	 * 空闲内存文本框
 	 */
 	private JFormattedTextField jTFFree = new JFormattedTextField();
 	/**
-	 * ڴ
+	 * 内存监控面板
 	 */
 	private MemoryMonitor jPanel1 = new MemoryMonitor();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogMemory() {
 		this(GV.appFrame);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogMemory(JFrame parent) {
-		super(parent, "ڴ - λ[ֽ]", true);
+		super(parent, "内存清理 - 单位：[字节]", true);
 		try {
 			initUI();
 			pack();
@@ -106,7 +106,7 @@ public class DialogMemory extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
 		MessageManager mm = IdeCommonMessage.get();
@@ -119,7 +119,7 @@ public class DialogMemory extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -128,14 +128,14 @@ public class DialogMemory extends JDialog {
 		FreeLayout freeLayout1 = new FreeLayout();
 		panel1.setLayout(freeLayout1);
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ر(C)");
+		jBCancel.setText("关闭(C)");
 		jBCancel.addActionListener(new DialogMemory_jBCancel_actionAdapter(this));
 		jBClean.setMnemonic('E');
-		jBClean.setText("(E)");
+		jBClean.setText("清理(E)");
 		jBClean.addActionListener(new DialogMemory_jBClean_actionAdapter(this));
-		jLabel1.setText("ռõڴ:");
-		jLabel2.setText("õڴ:");
-		jLabel3.setText("Ӧʹ˵ڴ:");
+		jLabel1.setText("虚拟机占用的内存:");
+		jLabel2.setText("可用的最大内存数:");
+		jLabel3.setText("应用使用了的内存:");
 		jTFTotal.setBackground(UIManager.getColor("Button.background"));
 		jTFTotal.setBorder(null);
 		jTFTotal.setToolTipText("");
@@ -174,7 +174,7 @@ public class DialogMemory extends JDialog {
 	}
 
 	/**
-	 * ȡť
+	 * 取消按钮
 	 * 
 	 * @param e
 	 */
@@ -184,7 +184,7 @@ public class DialogMemory extends JDialog {
 	}
 
 	/**
-	 * ť
+	 * 清理按钮
 	 * 
 	 * @param e
 	 */
@@ -198,7 +198,7 @@ public class DialogMemory extends JDialog {
 	}
 
 	/**
-	 * ˢڴ
+	 * 刷新内存
 	 */
 	void refreshMemory() {
 		long total, tmp;
@@ -214,7 +214,7 @@ public class DialogMemory extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -20,19 +20,19 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.JTableEx;
 
 /**
- * ȱʧֵ
+ * 缺失值定义
  *
  */
 public class DialogMissingFormat extends RQDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param owner 
+	 * @param owner 父组件
 	 */
 	public DialogMissingFormat(Dialog owner) {
-		super(owner, "ȱʧֵ");
+		super(owner, "缺失值定义");
 		try {
 			init();
 			GM.centerWindow(this);
@@ -42,7 +42,7 @@ public class DialogMissingFormat extends RQDialog {
 	}
 
 	/**
-	 * ȱʧֵ
+	 * 设置缺失值定义
 	 * 
 	 * @param missingExps
 	 */
@@ -61,7 +61,7 @@ public class DialogMissingFormat extends RQDialog {
 	}
 
 	/**
-	 * ȡȱʧֵ
+	 * 取缺失值定义
 	 * 
 	 * @return
 	 */
@@ -81,11 +81,11 @@ public class DialogMissingFormat extends RQDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		MessageManager mm = IdeCommonMessage.get();
-		setTitle(mm.getMessage("dialognullstrings.title")); // ȱʧֵ
+		setTitle(mm.getMessage("dialognullstrings.title")); // 缺失值定义
 		tableList = new JTableEx(new String[] { mm.getMessage("dialognullstrings.nullstrings") });
 		panelCenter.add(new JScrollPane(tableList), BorderLayout.CENTER);
 		JLabel labelNote = new JLabel(mm.getMessage("dialognullstrings.casesen"));
@@ -117,19 +117,19 @@ public class DialogMissingFormat extends RQDialog {
 	}
 
 	/**
-	 * Ӱť
+	 * 增加按钮
 	 */
 	private JButton buttonAdd = GM.getCommonIconButton(GM.B_ADD);
 	/**
-	 * ɾť
+	 * 删除按钮
 	 */
 	private JButton buttonDel = GM.getCommonIconButton(GM.B_DEL);
 	/**
-	 * ʽ
+	 * 表达式列
 	 */
 	private final int COL_EXP = 0;
 	/**
-	 * бؼ
+	 * 列表控件
 	 */
 	private JTableEx tableList;
 }
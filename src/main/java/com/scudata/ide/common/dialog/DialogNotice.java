@@ -13,19 +13,19 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.common.resources.IdeCommonMessage;
 
 /**
- * ʾԻ
+ * 不再提示对话框
  */
 public class DialogNotice extends RQDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param owner   
-	 * @param message ʾϢ
+	 * @param owner   父组件
+	 * @param message 提示信息
 	 */
 	public DialogNotice(JFrame owner, String message) {
-		super(owner, "ʾ", 400, 120);
+		super(owner, "提示", 400, 120);
 		try {
 			init(message);
 			setTitle(IdeCommonMessage.get().getMessage("dialognotice.title"));
@@ -36,7 +36,7 @@ public class DialogNotice extends RQDialog {
 	}
 
 	/**
-	 * Ƿʾ
+	 * 设置是否提示
 	 * 
 	 * @param notice
 	 */
@@ -45,7 +45,7 @@ public class DialogNotice extends RQDialog {
 	}
 
 	/**
-	 * ȡǷʾ
+	 * 取是否提示
 	 * 
 	 * @return
 	 */
@@ -54,9 +54,9 @@ public class DialogNotice extends RQDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
-	 * @param message ʾϢ
+	 * @param message 提示信息
 	 */
 	private void init(String message) {
 		JTextArea jtext = new JTextArea();
@@ -84,7 +84,7 @@ public class DialogNotice extends RQDialog {
 	}
 
 	/**
-	 * ʾѡ
+	 * 不再提示复选框
 	 */
 	private JCheckBox jCBNotNotice = new JCheckBox();
 }
@@ -30,21 +30,21 @@ import com.scudata.ide.common.swing.JComboBoxEx;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ODBCԴԻ
+ * ODBC数据源对话框
  *
  */
 public class DialogODBCDataSource extends JDialog {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 	/**
-	 * Դ
+	 * 旧数据源名称
 	 */
 	private String oldDSName;
 	/**
@@ -52,77 +52,77 @@ public class DialogODBCDataSource extends JDialog {
 	 */
 	public static final String ODBC_URL = "jdbc:odbc:";
 	/**
-	 * ַ
+	 * 字符集
 	 */
 	public static final String ODBC_CHARSET = "GBK";
 	/**
-	 * 
+	 * 驱动
 	 */
 	public static final String ODBC_DRIVER = "sun.jdbc.odbc.JdbcOdbcDriver";
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 
 	/**
-	 * Դ
+	 * 数据源名称
 	 */
 	private JLabel jLabel1 = new JLabel();
 	/**
-	 * Դı
+	 * 数据源名称文本框
 	 */
 	private JTextField jDSName = new JTextField();
 	/**
-	 * ODBC
+	 * ODBC名称
 	 */
 	private JLabel jLabel3 = new JLabel();
 	/**
-	 * ODBCı
+	 * ODBC名称文本框
 	 */
 	private JComboBoxEx jODBCName = new JComboBoxEx();
 	/**
-	 * û
+	 * 用户名
 	 */
 	private JLabel jLabel4 = new JLabel();
 	/**
-	 * ûı
+	 * 用户名文本框
 	 */
 	private JTextField jUser = new JTextField();
 	/**
-	 * 
+	 * 密码
 	 */
 	private JLabel jLabel5 = new JLabel();
 	/**
-	 * 
+	 * 密码输入框
 	 */
 	private JPasswordField jPassword = new JPasswordField();
 	/**
-	 * Ƿģʽ
+	 * 表名是否加模式名
 	 */
 	private JCheckBox jUseSchema = new JCheckBox();
 	/**
-	 * ǷСд
+	 * 是否大小写敏感
 	 */
 	private JCheckBox jCaseSentence = new JCheckBox();
 	/**
-	 * Ƿ޶
+	 * 对象名是否加限定符
 	 */
 	private JCheckBox jCBIsAddTilde = new JCheckBox();
 
 	/**
-	 * Ѿڵ
+	 * 已经存在的名称
 	 */
 	private Vector<String> existNames;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogODBCDataSource() {
-		super(GV.appFrame, "ODBCԴ", true);
+		super(GV.appFrame, "ODBC数据源", true);
 		try {
 			setSize(400, 300);
 			initUI();
@@ -135,24 +135,24 @@ public class DialogODBCDataSource extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
-		setTitle(mm.getMessage("dialogodbcdatasource.title")); // ODBCԴ
+		setTitle(mm.getMessage("dialogodbcdatasource.title")); // ODBC数据源
 		jBCancel.setText(mm.getMessage("button.cancel"));
 		jBOK.setText(mm.getMessage("button.ok"));
-		jLabel1.setText(mm.getMessage("dialogodbcdatasource.dsname")); // Դ
-		jLabel3.setText(mm.getMessage("dialogodbcdatasource.odbcname")); // ODBC
-		jLabel4.setText(mm.getMessage("dialogodbcdatasource.user")); // û
-		jLabel5.setText(mm.getMessage("dialogodbcdatasource.password")); // 
-		jUseSchema.setText(mm.getMessage("dialogodbcdatasource.useschema")); // ʹôģʽı
+		jLabel1.setText(mm.getMessage("dialogodbcdatasource.dsname")); // 数据源名称
+		jLabel3.setText(mm.getMessage("dialogodbcdatasource.odbcname")); // ODBC名称
+		jLabel4.setText(mm.getMessage("dialogodbcdatasource.user")); // 用户名
+		jLabel5.setText(mm.getMessage("dialogodbcdatasource.password")); // 密码
+		jUseSchema.setText(mm.getMessage("dialogodbcdatasource.useschema")); // 使用带模式的表名称
 		jCaseSentence.setText(mm
-				.getMessage("dialogodbcdatasource.casesentence")); // Сд
+				.getMessage("dialogodbcdatasource.casesentence")); // 大小写敏感
 		jCBIsAddTilde.setText(mm.getMessage("dialogdatasourcepara.isaddtilde"));
 	}
 
 	/**
-	 * Դ
+	 * 设置数据源对象
 	 * 
 	 * @param config
 	 */
@@ -179,7 +179,7 @@ public class DialogODBCDataSource extends JDialog {
 	}
 
 	/**
-	 * ȡԴ
+	 * 取数据源对象
 	 * 
 	 * @return
 	 */
@@ -201,17 +201,17 @@ public class DialogODBCDataSource extends JDialog {
 	}
 
 	/**
-	 * Ѿڵ
+	 * 设置已经存在的名称
 	 * 
 	 * @param existNames
-	 *            Ѿڵ
+	 *            已经存在的名称
 	 */
 	public void setExistNames(Vector<String> existNames) {
 		this.existNames = existNames;
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -220,7 +220,7 @@ public class DialogODBCDataSource extends JDialog {
 	}
 
 	/**
-	 * Ƿ޸
+	 * 名字是否修改了
 	 * 
 	 * @return
 	 */
@@ -229,7 +229,7 @@ public class DialogODBCDataSource extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -241,23 +241,23 @@ public class DialogODBCDataSource extends JDialog {
 		VFlowLayout vFlowLayout1 = new VFlowLayout();
 		jPanel2.setLayout(vFlowLayout1);
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogODBCDataSource_jBCancel_actionAdapter(
 				this));
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogODBCDataSource_jBOK_actionAdapter(this));
 		GridBagLayout gridBagLayout1 = new GridBagLayout();
 		GridBagLayout gridBagLayout2 = new GridBagLayout();
 		JPanel jPanel5 = new JPanel();
 		jPanel1.setLayout(gridBagLayout1);
-		jLabel1.setText("Դ");
-		jLabel3.setText("ODBC");
-		jLabel4.setText("û");
-		jLabel5.setText("");
-		jUseSchema.setText("ʹôģʽı");
-		jCaseSentence.setText("Сд");
-		jCBIsAddTilde.setText("ʹôŵSQL");
+		jLabel1.setText("数据源名称");
+		jLabel3.setText("ODBC名称");
+		jLabel4.setText("用户名");
+		jLabel5.setText("密码");
+		jUseSchema.setText("使用带模式的表名称");
+		jCaseSentence.setText("大小写敏感");
+		jCBIsAddTilde.setText("使用带引号的SQL");
 		JPanel jPanel3 = new JPanel();
 		jPanel3.setLayout(gridBagLayout2);
 		this.getContentPane().add(jPanel1, BorderLayout.CENTER);
@@ -288,7 +288,7 @@ public class DialogODBCDataSource extends JDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		int height = 28;
@@ -306,7 +306,7 @@ public class DialogODBCDataSource extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -341,7 +341,7 @@ public class DialogODBCDataSource extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -351,7 +351,7 @@ public class DialogODBCDataSource extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -28,34 +28,34 @@ import com.scudata.common.StringUtils;
 import com.scudata.ide.common.GM;
 
 /**
- * Դڲʹãڲָĸص
+ * 搜索资源，内部调试使用，用于查找指定类从哪个包加载的
  *
  */
 public class DialogResourceSearch extends JDialog implements ActionListener {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ı
+	 * 类名文本框
 	 */
 	private JTextField textClass = new JTextField();
 	/**
-	 * ť
+	 * 搜索按钮
 	 */
 	private JButton buttonSearch = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton buttonCancel = new JButton();
 	/**
-	 * ı
+	 * 结果文本框
 	 */
 	private JTextArea textResults = new JTextArea();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param frame
-	 *            
+	 *            父组件
 	 */
 	public DialogResourceSearch(JFrame frame) {
 		super(frame, "Resource search", true);
@@ -65,7 +65,7 @@ public class DialogResourceSearch extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		this.getContentPane().setLayout(new BorderLayout());
@@ -86,7 +86,7 @@ public class DialogResourceSearch extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ִв
+	 * 执行查找
 	 */
 	public void actionPerformed(ActionEvent e) {
 		Object c = e.getSource();
@@ -108,7 +108,7 @@ public class DialogResourceSearch extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * İ·
+	 * 查找类的包路径
 	 * 
 	 * @param clzName
 	 * @return
@@ -149,7 +149,7 @@ public class DialogResourceSearch extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * İ·
+	 * 查找类的包路径
 	 * 
 	 * @param cl
 	 * @param clzName
@@ -170,7 +170,7 @@ public class DialogResourceSearch extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ȡе·
+	 * 获取类所有的路径
 	 * 
 	 * @param cls
 	 * @return
@@ -19,45 +19,45 @@ import com.scudata.ide.common.resources.IdeCommonMessage;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ипԻ
+ * 行高列宽对话框
  *
  */
 public class DialogRowHeight extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * и߻п
+	 * 行高或列宽
 	 */
 	private JSpinner jSPSize = new JSpinner(new SpinnerNumberModel(0f, 0f,
 			999f, 5f));
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 	/**
-	 * Ƿиߣиߣп
+	 * 是否行高，是行高，否列宽
 	 */
 	private boolean isRow;
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param isRow
-	 *            Ƿиߣиߣп
+	 *            是否行高，是行高，否列宽
 	 * @param size
-	 *            и߻п
+	 *            行高或列宽
 	 */
 	public DialogRowHeight(boolean isRow, float size) {
 		super(GV.appFrame, "", true);
@@ -73,7 +73,7 @@ public class DialogRowHeight extends JDialog {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -82,7 +82,7 @@ public class DialogRowHeight extends JDialog {
 	}
 
 	/**
-	 * ȡи
+	 * 取行高
 	 * 
 	 * @return
 	 */
@@ -91,22 +91,22 @@ public class DialogRowHeight extends JDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 * 
 	 * @param size
 	 */
 	private void init(float size) {
 		if (isRow) {
-			setTitle(mm.getMessage("dialogrowheight.rowheight")); // и
+			setTitle(mm.getMessage("dialogrowheight.rowheight")); // 行高
 		} else {
-			setTitle(mm.getMessage("dialogrowheight.colwidth")); // п
+			setTitle(mm.getMessage("dialogrowheight.colwidth")); // 列宽
 		}
 		jSPSize.setValue(new Double(size));
 		jSPSize.setPreferredSize(new Dimension(0, 25));
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -117,10 +117,10 @@ public class DialogRowHeight extends JDialog {
 		VFlowLayout vFlowLayout2 = new VFlowLayout();
 		jPanel2.setLayout(vFlowLayout1);
 		jBOK.setMnemonic('O');
-		jBOK.setText(mm.getMessage("button.ok")); // ȷ(O)
+		jBOK.setText(mm.getMessage("button.ok")); // 确定(O)
 		jBOK.addActionListener(new DialogRowHeight_jBOK_actionAdapter(this));
 		jBCancel.setMnemonic('C');
-		jBCancel.setText(mm.getMessage("button.cancel")); // ȡ(C)
+		jBCancel.setText(mm.getMessage("button.cancel")); // 取消(C)
 		jBCancel.addActionListener(new DialogRowHeight_jBCancel_actionAdapter(
 				this));
 		jPanel1.setLayout(vFlowLayout2);
@@ -134,7 +134,7 @@ public class DialogRowHeight extends JDialog {
 	}
 
 	/**
-	 * رմ
+	 * 关闭窗口
 	 */
 	private void close() {
 		GM.setWindowDimension(this);
@@ -142,7 +142,7 @@ public class DialogRowHeight extends JDialog {
 	}
 
 	/**
-	 * رմ¼
+	 * 关闭窗口事件
 	 * 
 	 * @param e
 	 */
@@ -151,7 +151,7 @@ public class DialogRowHeight extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -161,7 +161,7 @@ public class DialogRowHeight extends JDialog {
 			String exp = isRow ? mm.getMessage("dialogrowheight.rowheight")
 					: mm.getMessage("dialogrowheight.colwidth");
 			JOptionPane.showMessageDialog(this,
-					mm.getMessage("dialogrowheight.validval", exp)); // Ϸ{0}
+					mm.getMessage("dialogrowheight.validval", exp)); // 不合法的{0}
 			return;
 		}
 		m_option = JOptionPane.OK_OPTION;
@@ -169,7 +169,7 @@ public class DialogRowHeight extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
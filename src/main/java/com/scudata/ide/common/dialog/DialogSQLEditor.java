@@ -63,357 +63,357 @@ import com.scudata.ide.common.swing.JTableEx;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * SQL༭
+ * SQL编辑器
  *
  */
 public class DialogSQLEditor extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * SELECT ɼ.ѧID, ɼ., sum(ɼ.ѧ), ɼ.Ӣ,ѧ. FROM ɼ // LEFT OUTER
-	 * JOIN ѧ ON ɼ.ѧID = ѧ.id WHERE (ɼ.Ӣ>60) GROUP BY ɼ.ѧID HAVING
-	 * sum(ɼ.ѧ)>300 ORDER BY ɼ.
+	 * SELECT 成绩.学生ID, 成绩.语文, sum(成绩.数学), 成绩.英语,学生表.籍贯 FROM 成绩 // LEFT OUTER
+	 * JOIN 学生表 ON 成绩.学生ID = 学生表.id WHERE (成绩.英语>60) GROUP BY 成绩.学生ID HAVING
+	 * sum(成绩.数学)>300 ORDER BY 成绩.姓名
 	 * 
-	 * whereȰոݣ havingǼɲҷ󣬰ѽ
+	 * where是先按照该条件检索数据， having是检索完成并且分组计算后，把结果集过滤
 	 */
 
-	/** FROMҳ */
+	/** FROM页 */
 	public static final int TAB_FROM = 0;
-	/** SELECTҳ */
+	/** SELECT页 */
 	public static final int TAB_SELECT = 1;
-	/** WHEREҳ */
+	/** WHERE页 */
 	public static final int TAB_WHERE = 2;
-	/** JOINҳ */
+	/** JOIN页 */
 	public static final int TAB_JOIN = 3;
-	/** GROUP BYҳ */
+	/** GROUP BY页 */
 	public static final int TAB_GROUP = 4;
-	/** HAVINGҳ */
+	/** HAVING页 */
 	public static final int TAB_HAVING = 5;
-	/** ORDER BYҳ */
+	/** ORDER BY页 */
 	public static final int TAB_ORDER = 6;
-	/** SQLҳ */
+	/** SQL页 */
 	public static final int TAB_SQL = 7;
 
 	/**
-	 * УֶУѡУֵУ
+	 * 序号列，字段列，选项列，值列，连接列
 	 */
 	private static final int COL_ID = 0, COL_FIELD = 1, COL_OPT = 2,
 			COL_VAL = 3, COL_CONNECT = 4;
 
 	/**
-	 * 仯
+	 * 表发生变化
 	 */
 	private TableChanged tableChanged = new TableChanged(this);
 
 	/**
-	 * б
+	 * 表名列表
 	 */
 	private Vector codeTable = new Vector();
 
 	/**
-	 * ʾֵ
+	 * 表名显示值
 	 */
 	private DefaultComboBoxModel dispTable = new DefaultComboBoxModel();
 
 	/**
-	 * ֶб
+	 * 字段名列表
 	 */
 	private Vector codeFields = new Vector();
 	/**
-	 * ֶʾֵб
+	 * 字段名显示值列表
 	 */
 	private DefaultListModel dispFields = new DefaultListModel();
 
 	/**
-	 * б
+	 * 操作符号列表
 	 */
 	private Vector<String> operateCodeItems = new Vector<String>(),
 			operateDispItems = new Vector<String>();
 
 	/**
-	 * ӷб
+	 * 连接符号列表
 	 */
 	private Vector<String> connectCodeItems = new Vector<String>(),
 			connectDispItems = new Vector<String>();
 
 	/**
-	 * SQL TAB
+	 * SQL TAB面板
 	 */
 	private JTabbedPane jTabbedPaneSql = new JTabbedPane();
 
 	/**
-	 * SQL༭
+	 * SQL编辑框
 	 */
 	private JTextPane jTextPaneSql = new JTextPane();
 
 	/**
-	 * ӱť
+	 * 增加表按钮
 	 */
 	private JButton fromButtonRight = new JButton();
 	/**
-	 * ɾť
+	 * 删除表按钮
 	 */
 	private JButton fromButtonLeft = new JButton();
 
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 
 	/**
-	 * ֶΰť
+	 * 增加字段按钮
 	 */
 	private JButton selectButtonRight = new JButton();
 	/**
-	 * ɾֶΰť
+	 * 删除字段按钮
 	 */
 	private JButton selectButtonLeft = new JButton();
 
 	/**
-	 * ӷ鰴ť
+	 * 增加分组按钮
 	 */
 	private JButton groupButtonRight = new JButton();
 	/**
-	 * ɾ鰴ť
+	 * 删除分组按钮
 	 */
 	private JButton groupButtonLeft = new JButton();
 
 	/**
-	 * ť
+	 * 增加排序按钮
 	 */
 	private JButton orderButtonRight = new JButton();
 	/**
-	 * ɾť
+	 * 删除排序按钮
 	 */
 	private JButton orderButtonLeft = new JButton();
 
 	/**
-	 * ۺϷʽؼ
+	 * 聚合方式控件
 	 */
 	private JComboBoxEx selectComboSum = new JComboBoxEx();
 	/**
-	 * FROM
+	 * FROM面板
 	 */
 	private JPanel fromPanel = new JPanel();
 
 	/**
-	 * ѡؼ
+	 * 选出下拉控件
 	 */
 	private JComboBoxEx selectComboLeft = new JComboBoxEx();
 	/**
-	 * ؼ
+	 * 分组下拉控件
 	 */
 	private JComboBoxEx groupComboLeft = new JComboBoxEx();
 	/**
-	 * ؼ
+	 * 排序下拉控件
 	 */
 	private JComboBoxEx orderComboLeft = new JComboBoxEx();
 
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	protected int m_option = JOptionPane.CLOSED_OPTION;
 
 	/**
-	 * 
+	 * 增加条件
 	 */
 	private JButton whereButtonAdd = new JButton();
 
 	/**
-	 * ɾ
+	 * 删除条件
 	 */
 	private JButton whereButtonDel = new JButton();
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * ,ֶ,,ֵ,ӷ
+	 * 序号,字段,运算符,值,连接符
 	 */
 	private final String TABLE_COLS = mm
 			.getMessage("dialogsqleditor.tablecols");
 
 	/**
-	 * ؼ
+	 * 条件表格控件
 	 */
 	private JTableEx whereTable = new JTableEx(TABLE_COLS);
 
 	/**
-	 * 
+	 * 增加连接
 	 */
 	private JButton joinButtonAdd = new JButton();
 
 	/**
-	 * ɾ
+	 * 删除连接
 	 */
 	private JButton joinButtonDel = new JButton();
 
 	/**
-	 * ӱؼ
+	 * 连接表格控件
 	 */
 	private JTableEx joinTable = new JTableEx(TABLE_COLS);
 
 	/**
-	 * HAVING
+	 * 增加HAVING条件
 	 */
 	private JButton havingButtonAdd = new JButton();
 	/**
-	 * ɾHAVING
+	 * 删除HAVING条件
 	 */
 	private JButton havingButtonDel = new JButton();
 
 	/**
-	 * HAVINGؼ
+	 * HAVING条件控件
 	 */
 	private JTableEx havingTable = new JTableEx(TABLE_COLS);
 
 	/**
-	 * ģʽؼ
+	 * 模式名控件
 	 */
 	private JComboBox<String> jCBSchema = new JComboBox<String>();
 
 	/**
-	 * ǰı
+	 * 当前的表
 	 */
 	private String currentFrom = null;
 
 	/**
-	 * ֶ޸
+	 * 手动修改
 	 */
 	private boolean bEditByHand = false;
 
 	/**
-	 * Ƿʼ
+	 * 是否初始化后
 	 */
 	private boolean afterInit = false;
 
 	/**
-	 * Դ
+	 * 数据源对象
 	 */
 	private DataSource ds;
 
 	/**
-	 * ѡFROMб
+	 * 待选FROM列表
 	 */
 	private JListEx fromListLeft = new JListEx();
 	/**
-	 * ѡFROMб
+	 * 选出FROM列表
 	 */
 	private JListEx fromListRight = new JListEx();
 	/**
-	 * ѡSELECTб
+	 * 待选SELECT列表
 	 */
 	private JListEx selectListLeft = new JListEx();
 	/**
-	 * ѡSELECTб
+	 * 选出SELECT列表
 	 */
 	private JListEx selectListRight = new JListEx();
 	/**
-	 * ѡб
+	 * 待选分组列表
 	 */
 	private JListEx groupListLeft = new JListEx();
 	/**
-	 * ѡб
+	 * 选出分组列表
 	 */
 	private JListEx groupListRight = new JListEx();
 	/**
-	 * ѡб
+	 * 待选排序列表
 	 */
 	private JListEx orderListLeft = new JListEx();
 	/**
-	 * ѡб
+	 * 选出排序列表
 	 */
 	private JListEx orderListRight = new JListEx();
 
 	/**
-	 * ѡı
+	 * 待选的表名
 	 */
 	private final String AVAILABLE_TABLE = mm
 			.getMessage("dialogsqleditor.availabletable");
 
 	/**
-	 * ѡ
+	 * 选出表名
 	 */
 	private final String SELECTED_TABLE = mm
 			.getMessage("dialogsqleditor.selectedtable");
 
 	/**
-	 * ѡֶ
+	 * 选出字段名
 	 */
 	private final String SELECTED_FIELD = mm
 			.getMessage("dialogsqleditor.selectedfield");
 
 	/**
-	 * 
+	 * 无
 	 */
 	private final String OPT_NUL = "";
 	/**
-	 * 
+	 * 求和
 	 */
 	private final String OPT_SUM = "SUM";
 	/**
-	 * ֵ
+	 * 最大值
 	 */
 	private final String OPT_MAX = "MAX";
 
 	/**
-	 * Сֵ
+	 * 最小值
 	 */
 	private final String OPT_MIN = "MIN";
 	/**
-	 * 
+	 * 计数
 	 */
 	private final String OPT_COUNT = "COUNT";
 	/**
-	 * ƽֵ
+	 * 平均值
 	 */
 	private final String OPT_AVG = "AVG";
 	/**
-	 * Ⱥ
+	 * 等号
 	 */
 	private final String OPT_EQUAL = "=";
 	/**
-	 * Ⱥ
+	 * 不等号
 	 */
 	private final String OPT_NOT_EQUAL = "<>";
 	/**
-	 * ں
+	 * 大于号
 	 */
 	private final String OPT_MORE = ">";
 	/**
-	 * Сں
+	 * 小于号
 	 */
 	private final String OPT_LESS = "<";
 	/**
-	 * 
+	 * 并且
 	 */
 	private final String OPT_AND = "and";
 	/**
-	 * 
+	 * 或者
 	 */
 	private final String OPT_OR = "or";
 
 	/**
-	 * Ƿģʽ
+	 * 是否复制模式
 	 */
 	private boolean isCopyMode = false;
 
 	/**
-	 * ȴ
+	 * 进度窗口
 	 */
 	public ProcessWindow pw;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param ds
-	 *            Դ
+	 *            数据源
 	 */
 	public DialogSQLEditor(DataSource ds) {
 		super(GV.appFrame, "", false);
@@ -471,7 +471,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * øģʽ
+	 * 设置复制模式
 	 */
 	public void setCopyMode() {
 		isCopyMode = true;
@@ -481,7 +481,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -490,10 +490,10 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ѡеıͼϢ
+	 * 更新选中的表或视图的列信息
 	 * 
 	 * @param table
-	 *            ͼ
+	 *            表或视图名
 	 * @throws Exception
 	 */
 	private void changeSelectTable(String table) throws Exception {
@@ -505,7 +505,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ˢ±
+	 * 刷新表名
 	 */
 	private void refreshTables() {
 		String realSchema = GM.getRealSchema(jCBSchema.getSelectedItem());
@@ -521,7 +521,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡSQL
+	 * 取SQL
 	 * 
 	 * @return
 	 */
@@ -530,18 +530,18 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȴ
+	 * 进度窗口
 	 *
 	 */
 	class ProcessWindow extends JWindow {
 		private static final long serialVersionUID = 1L;
 		/**
-		 * 
+		 * 进度跳
 		 */
 		private JProgressBar bar;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 */
 		ProcessWindow() {
 			super(DialogSQLEditor.this);
@@ -553,7 +553,7 @@ public class DialogSQLEditor extends JDialog {
 			JPanel panelMain = new JPanel(new BorderLayout());
 			panelMain.setBorder(BorderFactory.createLineBorder(Color.black));
 			JPanel panelCenter = new JPanel(new GridBagLayout());
-			// ڼرṹԺ
+			// 正在加载表结构，请稍候。
 			panelCenter.add(
 					new JLabel(IdeCommonMessage.get().getMessage(
 							"dialogsqleditor.loadds")), GM.getGBC(0, 0, true));
@@ -564,7 +564,7 @@ public class DialogSQLEditor extends JDialog {
 		}
 
 		/**
-		 * رմ
+		 * 关闭窗口
 		 */
 		public void disposeWindow() {
 			bar.setIndeterminate(false);
@@ -574,7 +574,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡֱڷŵ
+	 * 取垂直摆放的面板
 	 * 
 	 * @param bt1
 	 * @param bt2
@@ -597,15 +597,15 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
-		jBOK.setText(mm.getMessage("button.ok")); // ȷ(O)
-		jBCancel.setText(mm.getMessage("button.cancel")); // ȡ(C)
+		jBOK.setText(mm.getMessage("button.ok")); // 确定(O)
+		jBCancel.setText(mm.getMessage("button.cancel")); // 取消(C)
 	}
 
 	/**
-	 * ȡFROM
+	 * 取FROM面板
 	 * 
 	 * @return
 	 */
@@ -656,7 +656,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡSELECT
+	 * 取SELECT面板
 	 * 
 	 * @return
 	 */
@@ -758,7 +758,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * 
+	 * 解析计算列
 	 * 
 	 * @param exp
 	 * @return
@@ -786,7 +786,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡWHERE
+	 * 取WHERE面板
 	 * 
 	 * @return
 	 */
@@ -829,7 +829,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡJOIN
+	 * 取JOIN面板
 	 * 
 	 * @return
 	 */
@@ -871,7 +871,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ʼͼ갴ť
+	 * 初始化图标按钮
 	 * 
 	 * @param b
 	 */
@@ -883,7 +883,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡ
+	 * 取分组面板
 	 * 
 	 * @return
 	 */
@@ -954,7 +954,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡHAVING
+	 * 取HAVING面板
 	 * 
 	 * @return
 	 */
@@ -996,7 +996,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡ
+	 * 取排序面板
 	 * 
 	 * @return
 	 */
@@ -1053,7 +1053,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡSQL
+	 * 取SQL面板
 	 * 
 	 * @return
 	 */
@@ -1072,12 +1072,12 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡӳ
+	 * 取外键映射
 	 * 
 	 * @param ds
-	 *            Դ
+	 *            数据源
 	 * @param schema
-	 *            ģʽ
+	 *            模式名
 	 * @return
 	 */
 	private FKMap getFKMap(DataSource ds, String schema) {
@@ -1106,16 +1106,16 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡӳ
+	 * 取外键映射
 	 * 
 	 * @param ds
-	 *            Դ
+	 *            数据源
 	 * @param schema
-	 *            ģʽ
+	 *            模式名
 	 * @param table
-	 *            
+	 *            表名
 	 * @param tables
-	 *            ѡ
+	 *            已选表名
 	 * @return
 	 * @throws Throwable
 	 */
@@ -1167,7 +1167,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ӳ
+	 * 外键映射对象
 	 *
 	 */
 	class FKMap {
@@ -1209,7 +1209,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -1305,7 +1305,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 */
 	protected void processWindowEvent(WindowEvent e) {
 		super.processWindowEvent(e);
@@ -1323,10 +1323,10 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ±
+	 * 更新表名
 	 * 
 	 * @param tables
-	 *            
+	 *            表名
 	 * @throws Exception
 	 */
 	private void updateTableName(String tables) throws Exception {
@@ -1347,7 +1347,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ±ֶ
+	 * 更新表字段
 	 * 
 	 * @param tableName
 	 * @throws Exception
@@ -1367,12 +1367,12 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡֶ
+	 * 取表字段
 	 * 
 	 * @param schema
-	 *            ģʽ
+	 *            模式名
 	 * @param tableName
-	 *            
+	 *            表名
 	 * @return
 	 */
 	private Vector<String> getListTableColumns(String schema, String tableName) {
@@ -1453,14 +1453,14 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ѡĿ
+	 * 设置选择的项目
 	 * 
 	 * @param currentTable
-	 *            ǰ
+	 *            当前表
 	 * @param source
-	 *            Դбؼ
+	 *            源列表控件
 	 * @param target
-	 *            Ŀбؼ
+	 *            目标列表控件
 	 */
 	private void setSelectedItems(String currentTable, JListEx source,
 			Object target) {
@@ -1501,14 +1501,14 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ѡĿ
+	 * 设置选出的排序项目
 	 * 
 	 * @param table
-	 *            
+	 *            表名
 	 * @param source
-	 *            Դбؼ
+	 *            源列表控件
 	 * @param target
-	 *            Ŀбؼ
+	 *            目标列表控件
 	 */
 	private void setSelectedSortItems(String table, JListEx source,
 			JListEx target) {
@@ -1527,7 +1527,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * 
+	 * 表名增加引号
 	 * 
 	 * @param fromStr
 	 * @return
@@ -1559,7 +1559,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ӱ¼
+	 * 增加表事件
 	 * 
 	 * @param e
 	 */
@@ -1575,7 +1575,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ɾ¼
+	 * 删除表事件
 	 * 
 	 * @param e
 	 */
@@ -1593,7 +1593,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -1604,7 +1604,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -1632,7 +1632,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ѡֶ¼
+	 * 选出字段事件
 	 * 
 	 * @param e
 	 */
@@ -1643,7 +1643,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ɾֶ¼
+	 * 删除字段事件
 	 * 
 	 * @param e
 	 */
@@ -1653,7 +1653,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ѡı仯
+	 * 选择的表发生变化
 	 */
 	private void selectedTableChanged() {
 		FKMap map = getFKMap(ds, GM.getRealSchema(jCBSchema.getSelectedItem()));
@@ -1686,7 +1686,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否存在条件
 	 * 
 	 * @param f1
 	 * @param f2
@@ -1710,7 +1710,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ѡֶη仯
+	 * 选出的字段发生变化
 	 */
 	private void selectedFieldChanged() {
 		Section s = new Section(selectListRight.totalItems());
@@ -1722,7 +1722,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡб
+	 * 取计算列列表
 	 * 
 	 * @param s
 	 * @return
@@ -1745,7 +1745,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ȡֶб
+	 * 取常规字段列表
 	 * 
 	 * @param s
 	 * @return
@@ -1768,7 +1768,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ¼
+	 * 增加排序事件
 	 * 
 	 * @param e
 	 */
@@ -1778,7 +1778,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ɾ¼
+	 * 删除排序事件
 	 * 
 	 * @param e
 	 */
@@ -1787,19 +1787,19 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ʾԻ
+	 * 弹出提示对话框
 	 * 
 	 * @param text
-	 *            ʾϢ
+	 *            提示信息
 	 */
 	void messageBox(String text) {
 		JOptionPane.showMessageDialog(this, text,
-				mm.getMessage("dialogsqlsrcdata.prompt"), // ʾ
+				mm.getMessage("dialogsqlsrcdata.prompt"), // 提示
 				JOptionPane.WARNING_MESSAGE);
 	}
 
 	/**
-	 * ȡWHERE
+	 * 取WHERE条件
 	 * 
 	 * @param table
 	 * @return
@@ -1858,10 +1858,10 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * SQL
+	 * 生成SQL语句
 	 * 
 	 * @param tabIndex
-	 *            ǰѡTAB
+	 *            当前选择的TAB序号
 	 * @return
 	 */
 	private String generateSql(int tabIndex) {
@@ -1918,7 +1918,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ѡTABҳ仯
+	 * 选择的TAB页变化监听器
 	 *
 	 */
 	class TabChangeListener implements ChangeListener {
@@ -1929,7 +1929,7 @@ public class DialogSQLEditor extends JDialog {
 			case TAB_FROM:
 				currentFrom = fromListRight.totalItems();
 
-				// ıѡ
+				// 改变选择表
 				try {
 					updateTableName(currentFrom);
 				} catch (Exception x) {
@@ -1955,7 +1955,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * SQL༭򰴼
+	 * SQL编辑框按键后
 	 * 
 	 * @param e
 	 */
@@ -1964,7 +1964,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ģʽ仯¼
+	 * 模式名变化事件
 	 * 
 	 * @param e
 	 */
@@ -1975,7 +1975,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * 仯
+	 * 表发生变化
 	 *
 	 */
 	class TableChanged implements ItemListener {
@@ -2001,7 +2001,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * 
+	 * 新增分组
 	 * 
 	 * @param e
 	 */
@@ -2011,7 +2011,7 @@ public class DialogSQLEditor extends JDialog {
 	}
 
 	/**
-	 * ɾ
+	 * 删除分组
 	 * 
 	 * @param e
 	 */
@@ -33,85 +33,85 @@ import com.scudata.ide.common.swing.JListEx;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ѡԴԻ
+ * 选择数据源对话框
  *
  */
 public class DialogSelectDataSource extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 
 	/**
-	 * Դбؼ
+	 * 数据源列表控件
 	 */
 	private JListEx listDS = new JListEx();
 
 	/**
-	 * TAB
+	 * TAB面板
 	 */
 	private JTabbedPane tabMain = new JTabbedPane();
 
 	/**
-	 * ODBCԴб
+	 * ODBC数据源列表
 	 */
 	private JListEx listODBC = new JListEx();
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 
 	/**
-	 * Դҳ
+	 * 数据源配置页
 	 */
 	private final byte TAB_CONFIG = 0;
 
 	/**
-	 * ODBCҳ
+	 * ODBC页
 	 */
 	private final byte TAB_ODBC = 1;
 
 	/**
-	 * û
+	 * 用户名
 	 */
 	private JLabel labelUser = new JLabel();
 	/**
-	 * ûı
+	 * 用户名文本框
 	 */
 	private JTextField jUser = new JTextField();
 
 	/**
-	 * 
+	 * 密码
 	 */
 	private JLabel labelPwd = new JLabel();
 	/**
-	 * 
+	 * 密码框
 	 */
 	private JPasswordField jPassword = new JPasswordField();
 
 	/**
-	 * Ƿֹ仯
+	 * 是否阻止变化
 	 */
 	private boolean preventChange = false;
 
 	/**
-	 * 
+	 * 类型
 	 */
 	private byte type = TYPE_ALL;
-	/** ȫ */
+	/** 全部 */
 	public static final byte TYPE_ALL = 0;
 	/** SQL */
 	public static final byte TYPE_SQL = 1;
@@ -119,22 +119,22 @@ public class DialogSelectDataSource extends JDialog {
 	public static final byte TYPE_DQL = 2;
 
 	/**
-	 * Դ
+	 * 数据源对象
 	 */
 	private DataSource ds;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogSelectDataSource() {
 		this(TYPE_ALL);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param type
-	 *            
+	 *            类型
 	 */
 	public DialogSelectDataSource(byte type) {
 		super(GV.appFrame, "", true);
@@ -154,18 +154,18 @@ public class DialogSelectDataSource extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
 		this.setTitle(mm.getMessage("dialogselectdatasource.title"));
-		jBOK.setText(mm.getMessage("button.ok")); // ȷ(O)
-		jBCancel.setText(mm.getMessage("button.cancel")); // ȡ(C)
-		labelUser.setText(mm.getMessage("dialogodbcdatasource.user")); // û
-		labelPwd.setText(mm.getMessage("dialogodbcdatasource.password")); // 
+		jBOK.setText(mm.getMessage("button.ok")); // 确定(O)
+		jBCancel.setText(mm.getMessage("button.cancel")); // 取消(C)
+		labelUser.setText(mm.getMessage("dialogodbcdatasource.user")); // 用户名
+		labelPwd.setText(mm.getMessage("dialogodbcdatasource.password")); // 密码
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -174,7 +174,7 @@ public class DialogSelectDataSource extends JDialog {
 	}
 
 	/**
-	 * ȡԴ
+	 * 取数据源对象
 	 * 
 	 * @return
 	 */
@@ -183,7 +183,7 @@ public class DialogSelectDataSource extends JDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		JPanel jPanel2 = new JPanel();
@@ -275,7 +275,7 @@ public class DialogSelectDataSource extends JDialog {
 	}
 
 	/**
-	 * ODBCѡ仯
+	 * ODBC的选择变化
 	 */
 	private void odbcChanged() {
 		boolean isDSSelected = !listODBC.isSelectionEmpty();
@@ -286,7 +286,7 @@ public class DialogSelectDataSource extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -296,7 +296,7 @@ public class DialogSelectDataSource extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -343,7 +343,7 @@ public class DialogSelectDataSource extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
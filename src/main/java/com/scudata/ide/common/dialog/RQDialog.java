@@ -19,84 +19,84 @@ import com.scudata.ide.common.GV;
 import com.scudata.ide.common.resources.IdeCommonMessage;
 
 /**
- * Ի
+ * 对话框基类
  *
  */
 public class RQDialog extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	public JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	public JButton jBCancel = new JButton();
 
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	protected int m_option = JOptionPane.CLOSED_OPTION;
 	/**
-	 * м
+	 * 中间面板
 	 */
 	protected JPanel panelCenter = new JPanel(new BorderLayout());
 	/**
-	 * ײť
+	 * 底部按钮面板
 	 */
 	protected JPanel panelSouth = new JPanel(new FlowLayout(FlowLayout.RIGHT));
 	/**
-	 * ȱʡ
+	 * 缺省宽度
 	 */
 	private static final int DEF_WIDTH = 400;
 	/**
-	 * ȱʡ߶
+	 * 缺省高度
 	 */
 	private static final int DEF_HEIGHT = 300;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public RQDialog() {
 		this("");
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param title
-	 *            
+	 *            标题
 	 */
 	public RQDialog(String title) {
 		this(title, DEF_WIDTH, DEF_HEIGHT);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param title
-	 *            
+	 *            标题
 	 * @param width
-	 *            
+	 *            宽度
 	 * @param height
-	 *            ߶
+	 *            高度
 	 */
 	public RQDialog(String title, int width, int height) {
 		this(GV.appFrame, title, width, height);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param width
-	 *            
+	 *            宽度
 	 * @param height
-	 *            ߶
+	 *            高度
 	 */
 	public RQDialog(Frame owner, String title, int width, int height) {
 		super(owner, title, true);
@@ -108,28 +108,28 @@ public class RQDialog extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 */
 	public RQDialog(Dialog owner, String title) {
 		this(owner, title, DEF_WIDTH, DEF_HEIGHT);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param width
-	 *            
+	 *            宽度
 	 * @param height
-	 *            ߶
+	 *            高度
 	 */
 	public RQDialog(Dialog owner, String title, int width, int height) {
 		super(owner, title, true);
@@ -141,7 +141,7 @@ public class RQDialog extends JDialog {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -150,7 +150,7 @@ public class RQDialog extends JDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		jBOK.setMnemonic('O');
@@ -184,14 +184,14 @@ public class RQDialog extends JDialog {
 	}
 
 	/**
-	 * Իʱ
+	 * 对话框打开时
 	 */
 	protected void dialogOpened() {
 
 	}
 
 	/**
-	 * رնԻ
+	 * 关闭对话框
 	 * 
 	 * @param option
 	 */
@@ -205,7 +205,7 @@ public class RQDialog extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 * @return
@@ -215,14 +215,14 @@ public class RQDialog extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 */
 	protected void cancelAction() {
 		closeDialog(JOptionPane.CANCEL_OPTION);
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -234,7 +234,7 @@ public class RQDialog extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -8,62 +8,62 @@ import com.scudata.common.StringUtils;
 import com.scudata.expression.Expression;
 
 /**
- * ڱ༭ĺϢ
+ * 正在编辑的函数信息
  *
  */
 public class EditingFuncInfo {
 	/**
-	 * 
+	 * 函数名称
 	 */
 	private String funcName;
 	/**
-	 * ѡ
+	 * 函数选项
 	 */
 	private String funcOption;
 	/**
-	 * ڱ༭ĺ
+	 * 正在编辑的函数参数
 	 */
 	private EditingFuncParam funcParam;
 	/**
-	 * 
+	 * 主对象类型
 	 */
 	private byte majorType = Expression.TYPE_UNKNOWN;
 	/**
-	 * ֵ
+	 * 主对象值
 	 */
 	private Object majorValue;
 	/**
-	 * Ϣ
+	 * 函数信息
 	 */
 	private FuncInfo funcInfo;
 	/**
-	 * ༭
+	 * 编辑框
 	 */
 	private JTextComponent editor;
 	/**
-	 * ɱʽ
+	 * 旧表达式
 	 */
 	private String oldExp;
 	/**
-	 * ʼ㡢
+	 * 函数起始点、结束点
 	 */
 	private int funcStart, funcEnd;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param editor
-	 *            ༭
+	 *            编辑框
 	 * @param funcName
-	 *            
+	 *            函数名
 	 * @param funcOption
-	 *            ѡ
+	 *            函数选项
 	 * @param funcParam
-	 *            ڱ༭ĺ
+	 *            正在编辑的函数参数
 	 * @param funcStart
-	 *            ʼ
+	 *            函数起始点
 	 * @param funcEnd
-	 *            
+	 *            函数结束点
 	 */
 	public EditingFuncInfo(JTextComponent editor, String funcName,
 			String funcOption, EditingFuncParam funcParam, int funcStart,
@@ -78,7 +78,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ú
+	 * 设置函数名
 	 * 
 	 * @param funcName
 	 */
@@ -87,7 +87,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ȡ
+	 * 取函数名
 	 * 
 	 * @return
 	 */
@@ -96,7 +96,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * úѡ
+	 * 设置函数选项
 	 * 
 	 * @param funcOption
 	 */
@@ -106,7 +106,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ȡѡ
+	 * 取函数选项
 	 * 
 	 * @return
 	 */
@@ -115,7 +115,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ڱ༭ĺ
+	 * 设置正在编辑的函数参数
 	 * 
 	 * @param funcParam
 	 */
@@ -125,7 +125,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ȡڱ༭ĺ
+	 * 取正在编辑的函数参数
 	 * 
 	 * @return
 	 */
@@ -134,7 +134,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * 
+	 * 设置主对象类型
 	 * 
 	 * @param type
 	 */
@@ -143,7 +143,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ȡ
+	 * 取主对象类型
 	 * 
 	 * @return
 	 */
@@ -152,7 +152,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ֵ
+	 * 设置主对象值
 	 * 
 	 * @param value
 	 */
@@ -161,7 +161,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ȡֵ
+	 * 取主对象值
 	 * 
 	 * @return
 	 */
@@ -170,7 +170,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * úϢ
+	 * 设置函数信息
 	 * 
 	 * @param funcInfo
 	 */
@@ -179,7 +179,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ȡϢ
+	 * 取函数信息
 	 * 
 	 * @return
 	 */
@@ -188,7 +188,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ȡʼ
+	 * 取函数起始点
 	 * 
 	 * @return
 	 */
@@ -197,7 +197,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ȡѡʼ
+	 * 取函数选项起始点
 	 * 
 	 * @return
 	 */
@@ -206,7 +206,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ȡʼ
+	 * 取函数参数起始点
 	 * 
 	 * @return
 	 */
@@ -215,7 +215,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ȡǰַ
+	 * 取函数括号前的字符串
 	 * 
 	 * @return
 	 */
@@ -230,7 +230,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * תַ
+	 * 转字符串
 	 */
 	public String toString() {
 		StringBuffer sb = getPreFuncString();
@@ -246,7 +246,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ׷ӱ༭ı
+	 * 追加编辑的文本
 	 * 
 	 * @param container
 	 */
@@ -262,7 +262,7 @@ public class EditingFuncInfo {
 	}
 
 	/**
-	 * ˢ±༭
+	 * 刷新编辑器
 	 */
 	public void refreshEditor() {
 		int caretPos = editor.getCaretPosition();
@@ -3,31 +3,31 @@ package com.scudata.ide.common.function;
 import java.util.ArrayList;
 
 /**
- * ڱ༭ĺ
+ * 正在编辑的函数参数
  *
  */
 public class EditingFuncParam {
 	/**
-	 * 
+	 * 参数串
 	 */
 	private String paramString;
 	/**
-	 * Ӵֵʼ
+	 * 加粗的起始点
 	 */
 	private int boldStart = 0;
 	/**
-	 * ӴֵĽ
+	 * 加粗的结束点
 	 */
 	private int boldEnd = 0;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public EditingFuncParam() {
 	}
 
 	/**
-	 * ò
+	 * 设置参数串
 	 * 
 	 * @param paramString
 	 */
@@ -36,7 +36,7 @@ public class EditingFuncParam {
 	}
 
 	/**
-	 * ȡ
+	 * 取参数串
 	 * 
 	 * @return
 	 */
@@ -45,12 +45,12 @@ public class EditingFuncParam {
 	}
 
 	/**
-	 * üӴֵʼͽ
+	 * 设置加粗的起始点和结束点
 	 * 
 	 * @param start
-	 *            Ӵֵʼ
+	 *            加粗的起始点
 	 * @param end
-	 *            ӴֵĽ
+	 *            加粗的结束点
 	 */
 	public void setBoldPos(int start, int end) {
 		this.boldStart = start;
@@ -58,14 +58,14 @@ public class EditingFuncParam {
 	}
 
 	/**
-	 * תַ
+	 * 转字符串
 	 */
 	public String toString() {
 		return paramString;
 	}
 
 	/**
-	 * ׷ӱ༭ı
+	 * 追加编辑文本
 	 * 
 	 * @param container
 	 */
@@ -1,44 +1,44 @@
 package com.scudata.ide.common.function;
 
 /**
- * ڱ༭ı
+ * 正在编辑的文本
  *
  */
 public class EditingText {
 
-	/** ͨı */
+	/** 普通文本 */
 	public static String STYLE_NORMAL = "N";
-	/** ı */
+	/** 高亮文本 */
 	public static String STYLE_HIGHLIGHT = "H";
-	/** ѡı */
+	/** 选择文本 */
 	public static String STYLE_SELECTED = "S";
 
 	/**
-	 * ı
+	 * 文本
 	 */
 	private String text;
 	/**
-	 * ʽ
+	 * 样式
 	 */
 	private String style = STYLE_NORMAL;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param text
-	 *            ı
+	 *            文本
 	 */
 	public EditingText(String text) {
 		this.text = text;
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param text
-	 *            ı
+	 *            文本
 	 * @param style
-	 *            ʽ
+	 *            样式
 	 */
 	public EditingText(String text, String style) {
 		this.text = text;
@@ -46,7 +46,7 @@ public class EditingText {
 	}
 
 	/**
-	 * ȡı
+	 * 取文本
 	 * 
 	 * @return
 	 */
@@ -55,7 +55,7 @@ public class EditingText {
 	}
 
 	/**
-	 * ʽ
+	 * 设置样式
 	 * 
 	 * @param style
 	 */
@@ -64,7 +64,7 @@ public class EditingText {
 	}
 
 	/**
-	 * ȡʽ
+	 * 取样式
 	 * 
 	 * @return
 	 */
@@ -1,41 +1,41 @@
 package com.scudata.ide.common.function;
 
 /**
- * 
+ * 函数常量
  */
 public class FuncConst {
 
-	/** δ֪㲻ʱֵȷ */
+	/** 未知。计算不出时，函数返回值不确定。 */
 	public static final byte FILTER_NULL = 0;
-	/** ֶ */
+	/** 主对象的字段 */
 	public static final byte FILTER_MAJOR_FIELD = 1;
-	/** һֶ */
+	/** 第一个参数的字段 */
 	public static final byte FILTER_FIRSTPARA_FIELD = 2;
-	/**  */
+	/** 常数集 */
 	public static final byte FILTER_SORT = 3;
 
 	/**
-	 * ѡֵָͣΪϳ
+	 * 选择指向类型，值为以上常量
 	 */
 	private byte funcFilterId;
 	/**
-	 * ֵ
+	 * 值
 	 */
 	private String value;
 	/**
-	 * 
+	 * 标题
 	 */
 	private String title;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param funcFilterId
-	 *            ѡָ
+	 *            选择指向类型
 	 * @param value
-	 *            ֵ
+	 *            值
 	 * @param title
-	 *            
+	 *            标题
 	 */
 	public FuncConst(byte funcFilterId, String value, String title) {
 		this.funcFilterId = funcFilterId;
@@ -44,7 +44,7 @@ public class FuncConst {
 	}
 
 	/**
-	 * ȡѡָ
+	 * 取选择指向类型
 	 * 
 	 * @return
 	 */
@@ -53,7 +53,7 @@ public class FuncConst {
 	}
 
 	/**
-	 * ȡֵ
+	 * 取值
 	 * 
 	 * @return
 	 */
@@ -62,7 +62,7 @@ public class FuncConst {
 	}
 
 	/**
-	 * ȡ
+	 * 取标题
 	 * 
 	 * @return
 	 */
@@ -71,7 +71,7 @@ public class FuncConst {
 	}
 
 	/**
-	 * ȡ
+	 * 取常数集
 	 * 
 	 * @return
 	 */
@@ -6,91 +6,91 @@ import com.scudata.common.ICloneable;
 import com.scudata.expression.Expression;
 
 /**
- * Ϣ
+ * 函数信息
  *
  */
 public class FuncInfo implements ICloneable {
 	/**
-	 * 
+	 * 函数名称
 	 */
 	String name;
 
 	/**
-	 * 
+	 * 函数描述
 	 */
 	String desc;
 
 	/**
-	 * ׺ͬ
+	 * 后缀，用来区分同名函数。
 	 */
 	String postfix;
 
 	/**
-	 * 
+	 * 主对象类型
 	 */
 	byte majorType = Expression.TYPE_UNKNOWN;
 
 	/**
-	 * ֵ
+	 * 返回值类型
 	 */
 	byte returnType = Expression.TYPE_UNKNOWN;
 
 	/**
-	 * ѡ
+	 * 函数选项
 	 */
 	ArrayList<FuncOption> options = null;
 
 	/**
-	 * 
+	 * 参数配置
 	 */
 	ArrayList<FuncParam> params = null;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public FuncInfo() {
 	}
 
 	/**
-	 * ú
+	 * 设置函数名称
 	 * 
 	 * @param name
-	 *            
+	 *            函数名称
 	 */
 	public void setName(String name) {
 		this.name = name;
 	}
 
 	/**
-	 * ȡ
+	 * 取函数名称
 	 * 
-	 * @return 
+	 * @return 函数名称
 	 */
 	public String getName() {
 		return name;
 	}
 
 	/**
-	 * ú
+	 * 设置函数描述
 	 * 
 	 * @param desc
-	 *            
+	 *            函数描述
 	 */
 	public void setDesc(String desc) {
 		this.desc = desc;
 	}
 
 	/**
-	 * ȡ
+	 * 取函数描述
 	 * 
-	 * @return 
+	 * @return 函数描述
 	 */
 	public String getDesc() {
 		return desc;
 	}
 
 	/**
-	 * ú׺ͬ
+	 * 设置后缀，用来区分同名函数。
 	 * 
 	 * @param postfix
 	 */
@@ -99,7 +99,7 @@ public class FuncInfo implements ICloneable {
 	}
 
 	/**
-	 * ȡ׺ͬ
+	 * 取后缀，用来区分同名函数。
 	 * 
 	 * @return
 	 */
@@ -108,7 +108,7 @@ public class FuncInfo implements ICloneable {
 	}
 
 	/**
-	 * 
+	 * 设置主对象类型
 	 * 
 	 * @param type
 	 */
@@ -117,7 +117,7 @@ public class FuncInfo implements ICloneable {
 	}
 
 	/**
-	 * ȡ
+	 * 取主对象类型
 	 * 
 	 * @return
 	 */
@@ -126,7 +126,7 @@ public class FuncInfo implements ICloneable {
 	}
 
 	/**
-	 * ÷ֵ
+	 * 设置返回值类型
 	 * 
 	 * @param type
 	 */
@@ -135,7 +135,7 @@ public class FuncInfo implements ICloneable {
 	}
 
 	/**
-	 * ȡֵ
+	 * 取返回值类型
 	 * 
 	 * @return
 	 */
@@ -144,7 +144,7 @@ public class FuncInfo implements ICloneable {
 	}
 
 	/**
-	 * úѡ
+	 * 设置函数选项
 	 * 
 	 * @param options
 	 */
@@ -153,7 +153,7 @@ public class FuncInfo implements ICloneable {
 	}
 
 	/**
-	 * ȡѡ
+	 * 取函数选项
 	 * 
 	 * @return
 	 */
@@ -162,7 +162,7 @@ public class FuncInfo implements ICloneable {
 	}
 
 	/**
-	 * ò
+	 * 设置参数配置
 	 * 
 	 * @param params
 	 */
@@ -171,7 +171,7 @@ public class FuncInfo implements ICloneable {
 	}
 
 	/**
-	 * ȡ
+	 * 取参数配置
 	 * 
 	 * @return
 	 */
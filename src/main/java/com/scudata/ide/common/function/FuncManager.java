@@ -16,52 +16,52 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.common.XMLFile;
 
 /**
- * 
+ * 函数管理
  *
  */
 public class FuncManager {
 	/**
-	 * ļ
+	 * 文件名
 	 */
 	private static String fileName = null;
 
 	/**
-	 * 
+	 * 函数管理对象
 	 */
 	private static FuncManager fm = null;
 
 	/**
-	 * б
+	 * 函数对象列表
 	 */
 	private ArrayList<FuncInfo> funcList;
 
 	/**
-	 * 
+	 * 根结点
 	 */
 	private final String ROOT = "funcs";
 
 	/**
-	 * ͨ
+	 * 普通结点
 	 */
 	private final String NORMAL = "normal";
 
 	/**
-	 * ļ·
+	 * 文件路径
 	 */
 	private static String relativeFile = null;
 
 	/**
-	 * Ĭ·ļʱֻ
+	 * 默认类路径加载文件时只读
 	 */
 	private boolean readonly = false;
 
 	/**
-	 * ļǰ׺
+	 * 文件前缀
 	 */
 	public static String filePrefix = "esProc";
 
 	/**
-	 * ȡ
+	 * 取函数管理对象
 	 * 
 	 * @return
 	 */
@@ -73,7 +73,7 @@ public class FuncManager {
 	}
 
 	/**
-	 * ˽й캯ͨFuncManager.getManager()
+	 * 私有构造函数，通过FuncManager.getManager()调用
 	 */
 	private FuncManager() {
 		funcList = new ArrayList<FuncInfo>();
@@ -96,7 +96,7 @@ public class FuncManager {
 	}
 
 	/**
-	 * ȡļ·
+	 * 取文件路径
 	 * 
 	 * @return
 	 */
@@ -111,7 +111,7 @@ public class FuncManager {
 	}
 
 	/**
-	 * Ƿֻ
+	 * 是否只读
 	 * 
 	 * @return
 	 */
@@ -120,7 +120,7 @@ public class FuncManager {
 	}
 
 	/**
-	 * ȡļ
+	 * 取文件名
 	 * 
 	 * @return
 	 */
@@ -132,9 +132,9 @@ public class FuncManager {
 	}
 
 	/**
-	 * ļ
+	 * 加载文件
 	 * 
-	 * @param fileName ļ
+	 * @param fileName 文件名
 	 * @throws Throwable
 	 */
 	public void load(String fileName) throws Throwable {
@@ -143,9 +143,9 @@ public class FuncManager {
 	}
 
 	/**
-	 * ļ
+	 * 加载文件
 	 * 
-	 * @param is ļ
+	 * @param is 文件输入流
 	 * @throws Throwable
 	 */
 	public void load(InputStream is) throws Throwable {
@@ -154,9 +154,9 @@ public class FuncManager {
 	}
 
 	/**
-	 * ļ
+	 * 加载文件
 	 * 
-	 * @param xml XMLļ
+	 * @param xml XML文件对象
 	 * @throws Throwable
 	 */
 	private void load(XMLFile xml) throws Throwable {
@@ -184,10 +184,10 @@ public class FuncManager {
 	}
 
 	/**
-	 * غѡ
+	 * 加载函数选项
 	 * 
-	 * @param xml      XMLļ
-	 * @param rootPath ڵ·
+	 * @param xml      XML文件对象
+	 * @param rootPath 节点路径
 	 * @return
 	 */
 	ArrayList<FuncOption> loadOptions(XMLFile xml, String rootPath) {
@@ -218,11 +218,11 @@ public class FuncManager {
 	}
 
 	/**
-	 * 溯ѡ
+	 * 保存函数选项
 	 * 
-	 * @param xml      XMLļ
-	 * @param rootPath ڵ·
-	 * @param options  ѡб
+	 * @param xml      XML文件对象
+	 * @param rootPath 节点路径
+	 * @param options  函数选项列表
 	 */
 	void storeOptions(XMLFile xml, String rootPath,
 			ArrayList<FuncOption> options) {
@@ -246,10 +246,10 @@ public class FuncManager {
 	}
 
 	/**
-	 * غ
+	 * 加载函数参数
 	 * 
-	 * @param xml      XMLļ
-	 * @param rootPath ڵ·
+	 * @param xml      XML文件对象
+	 * @param rootPath 节点路径
 	 * @return
 	 */
 	ArrayList<FuncParam> loadParams(XMLFile xml, String rootPath) {
@@ -296,11 +296,11 @@ public class FuncManager {
 	}
 
 	/**
-	 * 溯
+	 * 保存函数参数
 	 * 
-	 * @param xml      XMLļ
-	 * @param rootPath ·
-	 * @param params   б
+	 * @param xml      XML文件对象
+	 * @param rootPath 结点路径
+	 * @param params   函数参数列表
 	 */
 	void storeParams(XMLFile xml, String rootPath, ArrayList<FuncParam> params) {
 		try {
@@ -332,7 +332,7 @@ public class FuncManager {
 	}
 
 	/**
-	 * غб
+	 * 返回函数列表
 	 * @return
 	 */
 	public List<FuncInfo> getFuncList() {
@@ -340,9 +340,9 @@ public class FuncManager {
 	}
 
 	/**
-	 * ȡ
+	 * 按序号取函数
 	 * 
-	 * @param index 
+	 * @param index 序号
 	 * @return
 	 */
 	public FuncInfo getFunc(int index) {
@@ -350,7 +350,7 @@ public class FuncManager {
 	}
 
 	/**
-	 * ȡбͬ
+	 * 按函数名取函数列表（可能同名函数）
 	 * 
 	 * @param funcName
 	 * @return
@@ -370,7 +370,7 @@ public class FuncManager {
 	}
 
 	/**
-	 * ȡ
+	 * 取函数的数量
 	 * 
 	 * @return
 	 */
@@ -379,7 +379,7 @@ public class FuncManager {
 	}
 
 	/**
-	 * б
+	 * 清理函数列表
 	 */
 	public void clear() {
 		funcList.clear();
@@ -390,7 +390,7 @@ public class FuncManager {
 	}
 
 	/**
-	 * \t滻Ϊո
+	 * 将\t替换为空格
 	 * 
 	 * @param str
 	 * @return
@@ -403,14 +403,14 @@ public class FuncManager {
 	}
 
 	/**
-	 * 
+	 * 保存
 	 * 
 	 * @return
 	 */
 	public boolean save() {
 		try {
 			if (ConfigOptions.bAutoBackup.booleanValue()) {
-				// ǰԭļ
+				// 保存前备份原来文件
 				String backName = fileName + ".bak";
 				File fb = new File(backName);
 				fb.deleteOnExit();
@@ -3,36 +3,36 @@ package com.scudata.ide.common.function;
 import com.scudata.common.ICloneable;
 
 /**
- * ѡ
+ * 函数选项
  *
  */
 public class FuncOption implements ICloneable {
 	/**
-	 * ѡַ
+	 * 选项字符
 	 */
 	String optionChar;
 	/**
-	 * 
+	 * 描述
 	 */
 	String description;
 	/**
-	 * Ƿȱʡѡ
+	 * 是否缺省选中
 	 */
 	boolean defaultSelect;
 
 	/**
-	 * Ƿѡ
+	 * 是否选中
 	 */
 	transient boolean select;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public FuncOption() {
 	}
 
 	/**
-	 * ѡַ
+	 * 设置选项字符
 	 * 
 	 * @param c
 	 */
@@ -41,7 +41,7 @@ public class FuncOption implements ICloneable {
 	}
 
 	/**
-	 * ȡѡַ
+	 * 取选项字符
 	 * 
 	 * @return
 	 */
@@ -50,7 +50,7 @@ public class FuncOption implements ICloneable {
 	}
 
 	/**
-	 * 
+	 * 设置描述
 	 * 
 	 * @param desc
 	 */
@@ -59,7 +59,7 @@ public class FuncOption implements ICloneable {
 	}
 
 	/**
-	 * ȡ
+	 * 取描述
 	 * 
 	 * @return
 	 */
@@ -68,7 +68,7 @@ public class FuncOption implements ICloneable {
 	}
 
 	/**
-	 * ȱʡѡ
+	 * 设置缺省选中
 	 * 
 	 * @param select
 	 */
@@ -77,7 +77,7 @@ public class FuncOption implements ICloneable {
 	}
 
 	/**
-	 * ȡȱʡѡ
+	 * 取缺省选中
 	 * 
 	 * @return
 	 */
@@ -86,7 +86,7 @@ public class FuncOption implements ICloneable {
 	}
 
 	/**
-	 * Ƿѡ
+	 * 设置是否选中
 	 * 
 	 * @param select
 	 */
@@ -95,7 +95,7 @@ public class FuncOption implements ICloneable {
 	}
 
 	/**
-	 * ȡǷѡ
+	 * 取是否选中
 	 * 
 	 * @return
 	 */
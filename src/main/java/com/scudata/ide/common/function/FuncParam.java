@@ -5,52 +5,52 @@ import java.util.ArrayList;
 import com.scudata.common.ICloneable;
 
 /**
- * 
+ * 函数参数
  *
  */
 public class FuncParam implements ICloneable {
 	/**
-	 * ˵
+	 * 说明
 	 */
 	String desc;
 	/**
-	 * ǰ
+	 * 前导符
 	 */
 	char preSign;
 	/**
-	 * ǷӲ
+	 * 是否子参数
 	 */
 	boolean isSubParam;
 	/**
-	 * Ƿظ
+	 * 是否可重复
 	 */
 	boolean isRepeatable;
 	/**
-	 * Ƿʶ
+	 * 是否标识符
 	 */
 	boolean isIdentifierOnly;
 	/**
-	 * ѡָ
+	 * 选择指向类型
 	 */
 	byte filterType = FuncConst.FILTER_NULL;
 	/**
-	 * ѡб
+	 * 选项列表
 	 */
 	ArrayList<FuncOption> options = null;
 
 	/**
-	 * ֵ
+	 * 参数值
 	 */
 	transient String paramValue = "";
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public FuncParam() {
 	}
 
 	/**
-	 * ˵
+	 * 设置说明
 	 * 
 	 * @param desc
 	 */
@@ -59,7 +59,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ȡ˵
+	 * 取说明
 	 * 
 	 * @return
 	 */
@@ -68,7 +68,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ǰ
+	 * 设置前导符
 	 * 
 	 * @param sign
 	 */
@@ -77,7 +77,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ȡǰ
+	 * 取前导符
 	 * 
 	 * @return
 	 */
@@ -86,7 +86,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ǷӲ
+	 * 设置是否子参数
 	 * 
 	 * @param isSub
 	 */
@@ -95,7 +95,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ȡǷӲ
+	 * 取是否子参数
 	 * 
 	 * @return
 	 */
@@ -104,7 +104,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * Ƿظ
+	 * 设置是否可重复
 	 * 
 	 * @param repeatable
 	 */
@@ -113,14 +113,14 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ȡǷظ
+	 * 取是否可重复
 	 */
 	public boolean isRepeatable() {
 		return isRepeatable;
 	}
 
 	/**
-	 * Ƿʶ
+	 * 设置是否标识符
 	 * 
 	 * @param identifierOnly
 	 */
@@ -129,7 +129,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ȡǷʶ
+	 * 取是否标识符
 	 * 
 	 * @return
 	 */
@@ -138,7 +138,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ѡָ
+	 * 设置选择指向类型
 	 * 
 	 * @param type
 	 */
@@ -147,7 +147,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ȡѡָ
+	 * 取选择指向类型
 	 * 
 	 * @return
 	 */
@@ -156,7 +156,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * òֵ
+	 * 设置参数值
 	 * 
 	 * @param value
 	 */
@@ -165,7 +165,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ȡֵ
+	 * 取参数值
 	 * 
 	 * @return
 	 */
@@ -174,7 +174,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ѡб
+	 * 设置选项列表
 	 * 
 	 * @param options
 	 */
@@ -183,7 +183,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ȡѡб
+	 * 取选项列表
 	 * 
 	 * @return
 	 */
@@ -192,7 +192,7 @@ public class FuncParam implements ICloneable {
 	}
 
 	/**
-	 * ¡
+	 * 克隆
 	 */
 	public Object deepClone() {
 		FuncParam fp = new FuncParam();
@@ -3,49 +3,49 @@ package com.scudata.ide.common.function;
 import java.util.List;
 
 /**
- * ӿ
+ * 参数结点接口
  *
  */
 public interface IParamTreeNode {
-	/** Ҷӽڵ */
+	/** 叶子节点 */
 	public static final char NORMAL = 0;
-	/** 1 ֺţȼ */
+	/** 1 分号，优先级最低 */
 	public static final char SEMICOLON = ';';
-	/** 2  */
+	/** 2 逗号 */
 	public static final char COMMA = ',';
-	/** 3 ð */
+	/** 3 冒号 */
 	public static final char COLON = ':';
 
 	/**
-	 * ؽڵ
+	 * 返回节点的类型
 	 * 
-	 * @return char NormalSemicolonCommaColon
+	 * @return char Normal、Semicolon、Comma、Colon
 	 */
 	char getType();
 
 	/**
-	 * ؽڵ
+	 * 返回节点内容
 	 * 
 	 * @return String
 	 */
 	String getContent();
 
 	/**
-	 * ǷҶӽڵ
+	 * 返回是否是叶子节点
 	 * 
 	 * @return boolean
 	 */
 	boolean isLeaf();
 
 	/**
-	 * ӽڵҶӽڵ㷵0
+	 * 返回子节点数，叶子节点返回0
 	 * 
 	 * @return int
 	 */
 	int getSubSize();
 
 	/**
-	 * ĳһӽڵ㣬0ʼ
+	 * 返回某一子节点，从0开始计数
 	 * 
 	 * @param index
 	 *            int
@@ -54,18 +54,18 @@ public interface IParamTreeNode {
 	IParamTreeNode getSub(int index);
 
 	/**
-	 * еĽڵ㣬ָڵ
+	 * 返回所有的节点，包括分隔符节点
 	 * 
 	 * @param list
-	 *            List ԪIParamTreeNode
+	 *            List 元素是IParamTreeNode
 	 */
 	void getAllParam(List<IParamTreeNode> list);
 
 	/**
-	 * еҶӽڵ
+	 * 返回所有的叶子节点
 	 * 
 	 * @param list
-	 *            List ԪIParamTreeNode
+	 *            List 元素是IParamTreeNode
 	 */
 	void getAllLeafParam(List<IParamTreeNode> list);
 }
@@ -15,36 +15,36 @@ import com.scudata.dm.Context;
 import com.scudata.expression.Expression;
 
 /**
- * 
+ * 解析函数参数工具
  *
  */
 public final class ParamUtil {
 	/**
-	 * ָڵࡣ ';' ',' ':'
+	 * 分隔符节点类。包括： ';' ',' ':'
 	 *
 	 */
 	private static class SymbolParam implements IParamTreeNode {
 		/**
-		 * б
+		 * 参数列表
 		 */
 		private List<IParamTreeNode> paramList = new ArrayList<IParamTreeNode>(
 				3);
 
 		/**
-		 * 
+		 * 符号
 		 */
 		private String content;
 
 		/**
-		 * 
+		 * 类型
 		 */
 		private char type;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * 
 		 * @param type
-		 *            
+		 *            类型
 		 */
 		public SymbolParam(char type) {
 			this.type = type;
@@ -64,42 +64,42 @@ public final class ParamUtil {
 		}
 
 		/**
-		 * ȡ
+		 * 取类型
 		 */
 		public char getType() {
 			return type;
 		}
 
 		/**
-		 * ȡ
+		 * 取符号
 		 */
 		public String getContent() {
 			return content;
 		}
 
 		/**
-		 * ǷҶ
+		 * 是否叶子
 		 */
 		public boolean isLeaf() {
 			return false;
 		}
 
 		/**
-		 * ȡӲ
+		 * 取子参数数量
 		 */
 		public int getSubSize() {
 			return paramList.size();
 		}
 
 		/**
-		 * ȡӲ
+		 * 按序号取子参数
 		 */
 		public IParamTreeNode getSub(int index) {
 			return (IParamTreeNode) paramList.get(index);
 		}
 
 		/**
-		 * ȡӲб
+		 * 取所有子参数列表
 		 */
 		public void getAllParam(List<IParamTreeNode> list) {
 			for (int i = 0, size = getSubSize(); i < size; ++i) {
@@ -117,7 +117,7 @@ public final class ParamUtil {
 		}
 
 		/**
-		 * ȡҶӽ
+		 * 取所有叶子结点
 		 */
 		public void getAllLeafParam(List<IParamTreeNode> list) {
 			for (int i = 0, size = getSubSize(); i < size; ++i) {
@@ -131,7 +131,7 @@ public final class ParamUtil {
 		}
 
 		/**
-		 * ӽڵ
+		 * 增加子节点
 		 * 
 		 * @param param
 		 */
@@ -141,69 +141,69 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * Ҷӽڵ
+	 * 叶子节点类
 	 */
 	private static class LeafParam implements IParamTreeNode {
 
 		/**
-		 * 
+		 * 符号
 		 */
 		private String content;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * 
 		 * @param content
-		 *            
+		 *            符号
 		 */
 		public LeafParam(String content) {
 			this.content = content;
 		}
 
 		/**
-		 * ȡ
+		 * 取类型
 		 */
 		public char getType() {
 			return NORMAL;
 		}
 
 		/**
-		 * ȡ
+		 * 取符号
 		 */
 		public String getContent() {
 			return content;
 		}
 
 		/**
-		 * ǷҶӽ
+		 * 是否叶子结点
 		 */
 		public boolean isLeaf() {
 			return true;
 		}
 
 		/**
-		 * ȡӽ
+		 * 取子结点的数量
 		 */
 		public int getSubSize() {
 			return 0;
 		}
 
 		/**
-		 * ȡӽ
+		 * 按序号取子结点
 		 */
 		public IParamTreeNode getSub(int index) {
 			throw new RuntimeException();
 		}
 
 		/**
-		 * ȡеӽ
+		 * 取所有的子结点
 		 */
 		public void getAllParam(List<IParamTreeNode> list) {
 			list.add(this);
 		}
 
 		/**
-		 * ȡеҶӽ
+		 * 取所有的叶子结点
 		 */
 		public void getAllLeafParam(List<IParamTreeNode> list) {
 			list.add(this);
@@ -211,7 +211,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * βظڵ
+	 * 解析层次参数，返回根节点
 	 * 
 	 * @param paramStr
 	 *            String
@@ -222,7 +222,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * λpڵĺ
+	 * 获得位置p所在的函数名称
 	 * 
 	 * @param exp
 	 *            String
@@ -244,7 +244,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ҵλڱʽ꣬xʼλãyλ δҵnull,úֵѡ
+	 * 找到函数名称位于表达式的坐标，其中x代表起始位置，y代表结束位置 未找到返回null,该函数返回值包含选项
 	 * 
 	 * @param exp
 	 *            String
@@ -257,7 +257,7 @@ public final class ParamUtil {
 			return null;
 		}
 
-		// ںϣҲ㶨λ
+		// 光标如果是落在函数名上，也算定位函数
 		if (p > 1
 				&& (exp.charAt(p - 1) == '@' || Sentence.isWordChar(exp
 						.charAt(p - 1)))) {
@@ -285,7 +285,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ȡѡַ
+	 * 取函数选项字符串
 	 * 
 	 * @param exp
 	 * @param p
@@ -305,19 +305,19 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ڱ༭ĺϢ
+	 * 正在编辑的函数信息
 	 */
 	private static EditingFuncInfo lastEFI = null;
 
 	/**
-	 * ȡڱ༭ĺϢ
+	 * 取正在编辑的函数信息
 	 * 
 	 * @param editor
-	 *            ༭
+	 *            编辑框
 	 * @param cellSet
-	 *            
+	 *            网格
 	 * @param context
-	 *            
+	 *            上下文
 	 * @return
 	 */
 	public static EditingFuncInfo getEditingFunc(JTextComponent editor,
@@ -365,13 +365,13 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ָĲ params ƥ䵽  srcFunc
+	 * 将指定的参数串 params 匹配到 函数定义 srcFunc
 	 * 
 	 * @param srcFunc
 	 *            FuncInfo
 	 * @param params
 	 *            String
-	 * @return FuncInfoƥɹؿ¡ֵ FuncInfo򷵻null
+	 * @return FuncInfo，匹配成功返回克隆后赋值的 FuncInfo，否则返回null
 	 */
 	public static FuncInfo matchFuncInfoParams(FuncInfo srcFunc, String params) {
 		if (!StringUtils.isValidString(params)
@@ -393,7 +393,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * һƥ䣬Ҳֺŵƥ
+	 * 一级匹配，也即分号的匹配
 	 * 
 	 * @return boolean
 	 */
@@ -417,7 +417,7 @@ public final class ParamUtil {
 				al.addAll(subList);
 			}
 		}
-		// 뱻ʡԵĲ
+		// 补齐被省略掉的参数
 		for (int i = inputLevel1.size(); i < defineLevel1.size(); i++) {
 			al.addAll(defineLevel1.get(i));
 		}
@@ -425,7 +425,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ȡһӲб
+	 * 取下一层的子参数列表
 	 * 
 	 * @param root
 	 * @param levelChar
@@ -449,7 +449,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ƥ䣬Ҳŵƥ ΪһظĲУֻһ
+	 * 二级匹配，也即逗号的匹配 二级参数定义为，最多有一个可重复的参数，如果有，且只能是最后一个参数
 	 * 
 	 * @param paramDefine
 	 * @param rootExp
@@ -488,7 +488,7 @@ public final class ParamUtil {
 		ArrayList<FuncParam> subList = new ArrayList<FuncParam>();
 		for (int i = 0; i < inputLevel2.size(); i++) {
 			IParamTreeNode subParam = (IParamTreeNode) inputLevel2.get(i);
-			if (repIndex == 0 && defineLevel2.size() > 1) { // ĺA.pselect(x1:y1,x2:y2,......xi:yi{,k})
+			if (repIndex == 0 && defineLevel2.size() > 1) { // 有特殊的函数，比如A.pselect(x1:y1,x2:y2,......xi:yi{,k})
 				if (i != 0 && i == inputLevel2.size() - 1) {
 					subDefine = defineLevel2.get(defineLevel2.size() - 1);
 					subList = match3(subDefine, subParam);
@@ -519,7 +519,7 @@ public final class ParamUtil {
 			}
 		}
 
-		// 뱻ʡԵĲ
+		// 补齐被省略掉的参数
 		for (int i = inputLevel2.size(); i < defineLevel2.size(); i++) {
 			al.addAll(defineLevel2.get(i));
 		}
@@ -527,7 +527,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ƥ䣬Ҳðŵƥ Ϊðſnֻǹ̶n
+	 * 三级匹配，也即冒号的匹配 三级参数定义为，冒号可以n个，但只能是固定的n个
 	 * 
 	 * @param paramDefine
 	 * @param rootExp
@@ -559,7 +559,7 @@ public final class ParamUtil {
 			al.add(cloneDefine);
 		}
 
-		// 뱻ʡԵĲ
+		// 补齐被省略掉的参数
 		for (int i = inputLevel3.size(); i < defineLevel3.size(); i++) {
 			ArrayList<FuncParam> subDefine = (ArrayList<FuncParam>) defineLevel3
 					.get(i);
@@ -574,7 +574,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ָĲֳɰsignָĲб
+	 * 将指定的参数定义拆分成按sign级别分割的参数列表
 	 * 
 	 * @param params
 	 *            ArrayList
@@ -603,7 +603,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * λpڵĺ
+	 * 获得位置p所在的函数参数串
 	 * 
 	 * @param exp
 	 *            String
@@ -620,7 +620,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * λ
+	 * 定位函数参数
 	 * 
 	 * @param exp
 	 * @param p
@@ -631,7 +631,7 @@ public final class ParamUtil {
 			return null;
 		}
 
-		// ںϣҲ㶨λ
+		// 光标如果是落在函数名上，也算定位函数
 		if (p > 1
 				&& (exp.charAt(p - 1) == '@' || Sentence.isWordChar(exp
 						.charAt(p - 1)))) {
@@ -657,7 +657,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ɨʶ
+	 * 扫描标识符
 	 * 
 	 * @param str
 	 * @param end
@@ -692,12 +692,12 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ַ
+	 * 解析参数字符串
 	 * 
 	 * @param paramStr
-	 *            ַ
+	 *            参数字符串
 	 * @param prevLevel
-	 *            ĸ
+	 *            结点的父级别
 	 * @return
 	 */
 	private static IParamTreeNode parse(String paramStr, char prevLevel) {
@@ -709,7 +709,7 @@ public final class ParamUtil {
 			return null;
 		}
 
-		if (prevLevel == IParamTreeNode.COLON) { // :ڵֻҶӽڵ
+		if (prevLevel == IParamTreeNode.COLON) { // :节点下只能是叶子节点
 			return new LeafParam(paramStr);
 		}
 
@@ -732,10 +732,10 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * ȡһ
+	 * 取下一个级别
 	 * 
 	 * @param prevLevel
-	 *            һ
+	 *            上一个级别
 	 * @return
 	 */
 	private static char getNextLevel(char prevLevel) {
@@ -752,7 +752,7 @@ public final class ParamUtil {
 	}
 
 	/**
-	 * Ƿзָ
+	 * 是否有分隔符
 	 * 
 	 * @param str
 	 * @param separator
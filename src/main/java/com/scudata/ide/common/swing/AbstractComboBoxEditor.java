@@ -9,32 +9,32 @@ import javax.swing.event.EventListenerList;
 import com.scudata.common.Logger;
 
 /**
- * ༭
+ * 下拉框编辑器
  */
 
 public abstract class AbstractComboBoxEditor implements ComboBoxEditor {
 
 	/**
-	 * б
+	 * 监听器列表
 	 */
 	EventListenerList listenerList = new EventListenerList();
 
 	/**
-	 * Ӽ
+	 * 增加监听器
 	 */
 	public void addActionListener(ActionListener listener) {
 		listenerList.add(ActionListener.class, listener);
 	}
 
 	/**
-	 * ɾ
+	 * 删除监听器
 	 */
 	public void removeActionListener(ActionListener listener) {
 		listenerList.remove(ActionListener.class, listener);
 	}
 
 	/**
-	 * ִ¼
+	 * 执行事件
 	 * 
 	 * @param e
 	 */
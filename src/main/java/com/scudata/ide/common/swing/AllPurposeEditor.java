@@ -18,7 +18,7 @@ import javax.swing.JTextField;
 import com.scudata.ide.common.GM;
 
 /**
- * JTableĵԪ༭
+ * JTable的单元格编辑器
  *
  */
 public class AllPurposeEditor extends DefaultCellEditor implements KeyListener,
@@ -27,20 +27,20 @@ public class AllPurposeEditor extends DefaultCellEditor implements KeyListener,
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ؼ
+	 * 表格控件
 	 */
 	private JTableEx parent;
 	/**
-	 * ıؼ
+	 * 文本框控件
 	 */
 	private JTextField textField;
 	/**
-	 * ֵ
+	 * 值
 	 */
 	private Object value;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param tf
 	 * @param parent
@@ -57,7 +57,7 @@ public class AllPurposeEditor extends DefaultCellEditor implements KeyListener,
 	}
 
 	/**
-	 * ¼
+	 * 鼠标点击事件
 	 */
 	public void mouseClicked(final MouseEvent e) {
 		JComponent editor = (JComponent) e.getSource();
@@ -134,27 +134,27 @@ public class AllPurposeEditor extends DefaultCellEditor implements KeyListener,
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 取编辑值
 	 */
 	public Object getCellEditorValue() {
-		// ༭ıֵʾıһ£Ϊûб༭ض
+		// 如果编辑器的文本跟对象值的显示文本一致，则认为没有编辑，返回对象本身
 		String editorText = textField.getText();
 		if (editorText.equals(GM.renderValueText(value))) {
 			return value;
 		}
-		// û༭ıΪ鼰ı
+		// 否则被用户编辑过的新文本串则作为遍及过的文本返回
 		return editorText;
 	}
 
 	/**
-	 * ǷԱ༭
+	 * 是否可以编辑
 	 */
 	public boolean isCellEditable(EventObject anEvent) {
 		return textField.isEditable();
 	}
 
 	/**
-	 * Ҫʵַر༭ؼ
+	 * 主要实现方法，返回编辑控件
 	 */
 	public Component getTableCellEditorComponent(JTable table, Object value,
 			boolean isSelected, int row, int column) {
@@ -21,59 +21,59 @@ import com.scudata.ide.common.GM;
 import com.scudata.util.Variant;
 
 /**
- * JTableĵԪȾ
+ * JTable的单元格渲染器
  *
  */
 public class AllPurposeRenderer implements TableCellRenderer {
 	/**
-	 * ֧»ߵıؼ
+	 * 支持下划线的文本控件
 	 */
 	private JLabelUnderLine textField = new JLabelUnderLine();
 	/**
-	 * Ƿ
+	 * 是否有序号列
 	 */
 	private boolean hasIndex = false;
 
 	/**
-	 * ʾʽ
+	 * 显示格式
 	 */
 	private String format;
 
 	/**
-	 * NULLʾֵ
+	 * NULL的显示值
 	 */
 	public static String DISP_NULL = "(null)";
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public AllPurposeRenderer() {
 		this(false);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param hasIndex Ƿ
+	 * @param hasIndex 是否有序号列
 	 */
 	public AllPurposeRenderer(boolean hasIndex) {
 		this.hasIndex = hasIndex;
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param format ʾʽ
+	 * @param format 显示格式
 	 */
 	public AllPurposeRenderer(String format) {
 		this(format, false);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param format   ʾʽ
-	 * @param hasIndex Ƿ
+	 * @param format   显示格式
+	 * @param hasIndex 是否有序号列
 	 */
 	public AllPurposeRenderer(String format, boolean hasIndex) {
 		this.format = format;
@@ -82,16 +82,16 @@ public class AllPurposeRenderer implements TableCellRenderer {
 	}
 
 	/**
-	 * ȡʾؼ
+	 * 取显示控件
 	 */
 	public Component getTableCellRendererComponent(JTable table, Object value,
 			boolean isSelected, boolean hasFocus, int row, int column) {
 		if (isSelected) {
 			textField.setForeground(table.getSelectionForeground());
-			// Ͻǵĸбɫ
+			// 设置设计器右上角的格中背景色
 			if (ConfigOptions.getCellColor() != null) {
 				textField.setBackground(ConfigOptions.getCellColor());
-			} else { // δԶɫϵͳĬɫ
+			} else { // 未自定义配置颜色，则用系统默认颜色
 				textField.setBackground(table.getSelectionBackground());
 			}
 		} else {
@@ -113,11 +113,11 @@ public class AllPurposeRenderer implements TableCellRenderer {
 
 		String strText = null;
 		try {
-			// Ĳformat
+			// 满足以下条件的才format
 			Pattern p = Pattern.compile("[#\\.0]");
 			Matcher m = p.matcher(format);
 			boolean numFormat = m.find();
-			if ((numFormat && isNumber) || (isDate && !numFormat)) { // кϷʽøʽʾ
+			if ((numFormat && isNumber) || (isDate && !numFormat)) { // 有合法格式的用格式显示
 				strText = Variant.format(value, format);
 			} else {
 				strText = GM.renderValueText(value);
@@ -127,7 +127,7 @@ public class AllPurposeRenderer implements TableCellRenderer {
 				strText = GM.renderValueText(value);
 			}
 		}
-		if (StringUtils.isValidString(strText)) { // ʱһո
+		if (StringUtils.isValidString(strText)) { // 缩进临时用一个空格
 			if (isNumber) {
 				strText += GC.STR_INDENT;
 			} else {
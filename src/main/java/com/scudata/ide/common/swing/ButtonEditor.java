@@ -10,36 +10,36 @@ import javax.swing.JCheckBox;
 import javax.swing.JTable;
 
 /**
- * JTableԪť༭
+ * JTable单元格按钮编辑器
  *
  */
 public class ButtonEditor extends DefaultCellEditor {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ؼ
+	 * 表格控件
 	 */
 	protected JTable table;
 	/**
-	 * ڱ༭
+	 * 正在编辑的行
 	 */
 	protected int editingRow = -1;
 	/**
-	 * ڱ༭
+	 * 正在编辑的列
 	 */
 	protected int editingCol = -1;
 	/**
-	 * ڱ༭ֵ
+	 * 正在编辑的值
 	 */
 	protected Object editingVal = null;
 
 	/**
-	 * ؼ
+	 * 按键控件
 	 */
 	private JButton button = new JButton();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ButtonEditor() {
 		super(new JCheckBox());
@@ -53,13 +53,13 @@ public class ButtonEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * 
+	 * 鼠标点击
 	 */
 	protected void clicked() {
 	}
 
 	/**
-	 * ر༭ؼ
+	 * 返回编辑控件
 	 */
 	public Component getTableCellEditorComponent(JTable table, Object value,
 			boolean isSelected, int row, int column) {
@@ -69,21 +69,21 @@ public class ButtonEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ȡԪ༭ֵ
+	 * 取单元格编辑值
 	 */
 	public Object getCellEditorValue() {
 		return editingVal;
 	}
 
 	/**
-	 * ֹͣԪ༭
+	 * 停止单元格编辑
 	 */
 	public boolean stopCellEditing() {
 		return super.stopCellEditing();
 	}
 
 	/**
-	 * ༭ֹͣ
+	 * 编辑停止
 	 */
 	protected void fireEditingStopped() {
 		super.fireEditingStopped();
@@ -10,7 +10,7 @@ import javax.swing.table.TableCellRenderer;
 import com.scudata.ide.common.GM;
 
 /**
- * JTableԪѡȾ
+ * JTable单元格复选框渲染器
  *
  */
 public class CheckBoxRenderer extends JCheckBox implements TableCellRenderer {
@@ -18,14 +18,14 @@ public class CheckBoxRenderer extends JCheckBox implements TableCellRenderer {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public CheckBoxRenderer() {
 		setHorizontalAlignment(JLabel.CENTER);
 	}
 
 	/**
-	 * ر༭ؼ
+	 * 返回编辑控件
 	 */
 	public Component getTableCellRendererComponent(JTable table, Object value,
 			boolean isSelected, boolean hasFocus, int row, int column) {
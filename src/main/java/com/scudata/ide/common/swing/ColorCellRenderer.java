@@ -8,19 +8,19 @@ import javax.swing.JTable;
 import javax.swing.table.TableCellRenderer;
 
 /**
- * JTableԪɫ༭Ⱦ
+ * JTable单元格颜色编辑渲染器
  *
  */
 public class ColorCellRenderer extends JLabel implements TableCellRenderer {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ɫͼ
+	 * 颜色图标
 	 */
 	private ColorIcon icon = new ColorIcon();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ColorCellRenderer() {
 		setOpaque(true);
@@ -30,7 +30,7 @@ public class ColorCellRenderer extends JLabel implements TableCellRenderer {
 	}
 
 	/**
-	 * ʾ
+	 * 返回用于显示的组件
 	 */
 	public Component getTableCellRendererComponent(JTable table, Object value,
 			boolean isSelected, boolean hasFocus, int row, int column) {
@@ -32,22 +32,22 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.common.resources.IdeCommonMessage;
 
 /**
- * ɫ༭бؼ
+ * 颜色编辑下拉列表控件
  */
 public class ColorComboBox extends JComboBox<Integer> {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ǷԱ༭ʽ
+	 * 是否可以编辑表达式
 	 */
 	private boolean canEditExp = false;
 	/**
-	 * ͸ɫ
+	 * 透明色
 	 */
 	public static Integer transparentColor = new Integer(0xffffff);
 
 	/**
-	 * ȱʡɫб
+	 * 缺省的颜色列表
 	 */
 	final static Integer[] defColors = new Integer[] {
 			new Integer(Color.black.getRGB()),
@@ -61,14 +61,14 @@ public class ColorComboBox extends JComboBox<Integer> {
 			new Integer(Color.white.getRGB()), transparentColor };
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ColorComboBox() {
 		this(true);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param palette
 	 */
@@ -84,7 +84,7 @@ public class ColorComboBox extends JComboBox<Integer> {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 * 
 	 * @param withTransparentColor
 	 */
@@ -100,7 +100,7 @@ public class ColorComboBox extends JComboBox<Integer> {
 
 	/**
 	 * @param withTransparentColor
-	 *            boolean Ƿ ͸ɫ ɫ
+	 *            boolean 是否有 透明色 下拉颜色
 	 */
 	public ColorComboBox(boolean withTransparentColor) {
 		super(defColors);
@@ -108,10 +108,10 @@ public class ColorComboBox extends JComboBox<Integer> {
 	}
 
 	/**
-	 * Ƿ͸ɫ
+	 * 设置是否包含透明色
 	 * 
 	 * @param withTransparentColor
-	 *            trueʱ͸ɫ
+	 *            true时包含透明色
 	 */
 	public void setWithTransparentColor(boolean withTransparentColor) {
 		if (withTransparentColor) {
@@ -129,7 +129,7 @@ public class ColorComboBox extends JComboBox<Integer> {
 	}
 
 	/**
-	 * ȡɫintֵ
+	 * 取颜色的int值
 	 * 
 	 * @return
 	 */
@@ -138,7 +138,7 @@ public class ColorComboBox extends JComboBox<Integer> {
 	}
 
 	/**
-	 * ǷԱ༭ʽ
+	 * 是否可以编辑表达式
 	 * 
 	 * @return
 	 */
@@ -147,53 +147,53 @@ public class ColorComboBox extends JComboBox<Integer> {
 	}
 
 	/**
-	 * ÿԱ༭ʽ
+	 * 设置可以编辑表达式
 	 */
 	public void setAllowEditExp() {
 		canEditExp = true;
 	}
 
 	/**
-	 * ĵԪɫ༭
+	 * 下拉框的单元格颜色编辑器
 	 *
 	 */
 	class ColorComboBoxEditor extends BasicComboBoxEditor implements
 			FocusListener {
 		/**
-		 * ɫ
+		 * 颜色下拉框
 		 */
 		ColorComboBox parentContainer = null;
 		/**
-		 * ɫͼ
+		 * 颜色图标
 		 */
 		ColorIcon editorIcon = new ColorIcon();
 		/**
-		 * ༭ǩ
+		 * 编辑标签
 		 */
 		JLabel editorLabel = new JLabel(editorIcon);
 		/**
-		 * ߿
+		 * 边框
 		 */
 		Border lowerBorder, etchedBorder;
 		/**
-		 * ༭ɫ
+		 * 编辑的颜色
 		 */
 		Object color;
 		/**
-		 * Ի
+		 * 对话框
 		 */
 		Dialog dialog = null;
 		/**
-		 * ɫʽֵHEXֵ
+		 * 颜色表达式、值和HEX值
 		 */
 		JTextField colorExpField, colorValueDec, colorValueHex;
 		/**
-		 * ɫѡ
+		 * 颜色选择器
 		 */
 		JColorChooser colorChooser = new JColorChooser();
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * 
 		 * @param p
 		 */
@@ -273,21 +273,21 @@ public class ColorComboBox extends JComboBox<Integer> {
 		}
 
 		/**
-		 * ȡ༭ؼ
+		 * 取编辑控件
 		 */
 		public Component getEditorComponent() {
 			return editorLabel;
 		}
 
 		/**
-		 * ȡɫ
+		 * 取颜色
 		 */
 		public Object getItem() {
 			return color;
 		}
 
 		/**
-		 * Ŀ
+		 * 设置项目
 		 */
 		public void setItem(Object itemToSet) {
 			editorLabel.setText("");
@@ -296,7 +296,7 @@ public class ColorComboBox extends JComboBox<Integer> {
 		}
 
 		/**
-		 * ɫ
+		 * 设置颜色
 		 * 
 		 * @param itemToSet
 		 */
@@ -320,18 +320,18 @@ public class ColorComboBox extends JComboBox<Integer> {
 }
 
 /**
- * JListԪȾ
+ * JList单元格渲染器
  *
  */
 class ColorRendererer extends JLabel implements ListCellRenderer {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * ɫͼ
+	 * 颜色图标
 	 */
 	private ColorIcon icon = new ColorIcon();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ColorRendererer() {
 		setOpaque(true);
@@ -342,7 +342,7 @@ class ColorRendererer extends JLabel implements ListCellRenderer {
 	}
 
 	/**
-	 * ʾ
+	 * 返回显示的组件
 	 */
 	public Component getListCellRendererComponent(JList list, Object value,
 			int index, boolean isSelected, boolean cellHasFocus) {
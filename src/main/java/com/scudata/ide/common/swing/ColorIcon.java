@@ -7,42 +7,42 @@ import java.awt.Graphics;
 import javax.swing.Icon;
 
 /**
- * ɫͼ
+ * 颜色图标
  *
  */
 public class ColorIcon implements Icon {
 	/**
-	 * ɫ
+	 * 颜色
 	 */
 	private Object color;
 	/**
-	 * ͸
+	 * 宽和高
 	 */
 	private final int w = 37, h = 15;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ColorIcon() {
 		this(Color.gray, 0, 0);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param color
-	 *            ɫ
+	 *            颜色
 	 * @param w
-	 *            
+	 *            宽
 	 * @param h
-	 *            
+	 *            高
 	 */
 	public ColorIcon(Color color, int w, int h) {
 		this.color = color;
 	}
 
 	/**
-	 * ͸ɫ
+	 * 填充透明色
 	 * 
 	 * @param g
 	 * @param w
@@ -72,7 +72,7 @@ public class ColorIcon implements Icon {
 	}
 
 	/**
-	 * ͼ
+	 * 画图标
 	 */
 	public void paintIcon(Component c, Graphics g, int x, int y) {
 		if (color instanceof String) {
@@ -82,7 +82,7 @@ public class ColorIcon implements Icon {
 			g.drawString((String) color, 2, 14);
 		} else {
 			g.translate(x, y);
-			Color cc = null;// colorΪnullʱʾ͸ɫ
+			Color cc = null;// 当color为null时，表示透明色
 			if (color instanceof Color) {
 				cc = (Color) color;
 			} else if (color instanceof Integer) {
@@ -103,7 +103,7 @@ public class ColorIcon implements Icon {
 	}
 
 	/**
-	 * ȡɫ
+	 * 取颜色
 	 * 
 	 * @return
 	 */
@@ -115,7 +115,7 @@ public class ColorIcon implements Icon {
 	}
 
 	/**
-	 * ɫ
+	 * 设置颜色
 	 * 
 	 * @param color
 	 */
@@ -124,14 +124,14 @@ public class ColorIcon implements Icon {
 	}
 
 	/**
-	 * ȡ
+	 * 取宽
 	 */
 	public int getIconWidth() {
 		return w;
 	}
 
 	/**
-	 * ȡ
+	 * 取高
 	 */
 	public int getIconHeight() {
 		return h;
@@ -31,28 +31,28 @@ import com.scudata.common.MessageManager;
 import com.scudata.ide.common.resources.IdeCommonMessage;
 
 /**
- * ѡ
+ * 日期选择器
  *
  */
 public class DateChooser extends javax.swing.JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * ʵ
+	 * 日历的实例
 	 */
 	private Calendar calendar;
 	/**
-	 * ѡ
+	 * 选择的日历
 	 */
 	private Calendar retCal;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DateChooser() {
 		super();
@@ -60,10 +60,10 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 */
 	public DateChooser(Dialog owner) {
 		super(owner);
@@ -71,12 +71,12 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 */
 	public DateChooser(Dialog owner, boolean modal) {
 		super(owner, modal);
@@ -84,12 +84,12 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 */
 	public DateChooser(Dialog owner, String title) {
 		super(owner, title);
@@ -97,14 +97,14 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 */
 	public DateChooser(Dialog owner, String title, boolean modal) {
 		super(owner, title, modal);
@@ -112,14 +112,14 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 * @param gc
 	 *            GraphicsConfiguration
 	 */
@@ -130,10 +130,10 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 */
 	public DateChooser(Frame owner) {
 		super(owner);
@@ -141,12 +141,12 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 */
 	public DateChooser(Frame owner, boolean modal) {
 		super(owner, modal);
@@ -154,12 +154,12 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 */
 	public DateChooser(Frame owner, String title) {
 		super(owner, title);
@@ -167,14 +167,14 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 */
 	public DateChooser(Frame owner, String title, boolean modal) {
 		super(owner, title, modal);
@@ -182,14 +182,14 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 * @param gc
 	 *            GraphicsConfiguration
 	 */
@@ -200,7 +200,7 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化日期
 	 * 
 	 * @param calendar
 	 */
@@ -212,7 +212,7 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		initComponents();
@@ -222,7 +222,7 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 */
 	private void initComponents() {
 		JPanel basePanel = new JPanel();
@@ -301,7 +301,7 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * ֵ仯
+	 * 日期值发生变化
 	 * 
 	 * @param evt
 	 */
@@ -313,7 +313,7 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * ·ݱ仯
+	 * 下拉月份变化
 	 * 
 	 * @param evt
 	 */
@@ -326,7 +326,7 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param evt
 	 */
@@ -397,11 +397,11 @@ public class DateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * ·
+	 * 月份下拉框
 	 */
 	private JComboBox jComboBox1;
 	/**
-	 * ʱֵ
+	 * 日期时间值
 	 */
 	private JSpinner jSpinner1;
 	/**
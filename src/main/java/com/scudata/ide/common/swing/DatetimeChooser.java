@@ -41,27 +41,27 @@ import com.scudata.ide.common.GV;
 import com.scudata.ide.common.resources.IdeCommonMessage;
 
 /**
- * ʱѡԻ
+ * 日期时间选择对话框
  *
  */
 public class DatetimeChooser extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 	/**
-	 * ʵ
+	 * 日历的实例
 	 */
 	private Calendar calendar;
 	/**
-	 * ѡ
+	 * 选择的日历
 	 */
 	private Calendar retCal;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DatetimeChooser() {
 		super();
@@ -69,10 +69,10 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 */
 	public DatetimeChooser(Dialog owner) {
 		super(owner);
@@ -80,12 +80,12 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 */
 	public DatetimeChooser(Dialog owner, boolean modal) {
 		super(owner, modal);
@@ -93,12 +93,12 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 */
 	public DatetimeChooser(Dialog owner, String title) {
 		super(owner, title);
@@ -106,14 +106,14 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 */
 	public DatetimeChooser(Dialog owner, String title, boolean modal) {
 		super(owner, title, modal);
@@ -121,14 +121,14 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 * @param gc
 	 *            GraphicsConfiguration
 	 */
@@ -139,10 +139,10 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 */
 	public DatetimeChooser(Frame owner) {
 		super(owner);
@@ -150,12 +150,12 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 */
 	public DatetimeChooser(Frame owner, boolean modal) {
 		super(owner, modal);
@@ -163,12 +163,12 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 */
 	public DatetimeChooser(Frame owner, String title) {
 		super(owner, title);
@@ -176,14 +176,14 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 */
 	public DatetimeChooser(Frame owner, String title, boolean modal) {
 		super(owner, title, modal);
@@ -191,14 +191,14 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param owner
-	 *            
+	 *            父组件
 	 * @param title
-	 *            
+	 *            标题
 	 * @param modal
-	 *            Ƿģ̬
+	 *            是否模态的
 	 * @param gc
 	 *            GraphicsConfiguration
 	 */
@@ -209,7 +209,7 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * ʼʱ
+	 * 初始化日期时间
 	 * 
 	 * @param calendar
 	 */
@@ -225,7 +225,7 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		initComponents();
@@ -235,7 +235,7 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 */
 	private void initComponents() {
 		JPanel basePanel = new JPanel();
@@ -372,7 +372,7 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 */
 	private void okActionPerformed() {
 		if (monthCalendar.getSelectedIndex() < 0) {
@@ -385,7 +385,7 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 */
 	private void cancelActionPerformed() {
 		GM.setWindowDimension(this);
@@ -393,7 +393,7 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * ¼ֵ仯
+	 * 日期事件值变化
 	 * 
 	 * @param evt
 	 */
@@ -405,7 +405,7 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * ·ݱ仯
+	 * 下拉月份变化
 	 * 
 	 * @param evt
 	 */
@@ -418,7 +418,7 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * رմ¼
+	 * 关闭窗口事件
 	 * 
 	 * @param evt
 	 */
@@ -492,11 +492,11 @@ public class DatetimeChooser extends JDialog {
 	}
 
 	/**
-	 * ·
+	 * 月份下拉框
 	 */
 	private JComboBox jComboBox1;
 	/**
-	 * ʱֵ
+	 * 日期时间值
 	 */
 	private JSpinner jSpinner1;
 	/**
@@ -504,15 +504,15 @@ public class DatetimeChooser extends JDialog {
 	 */
 	private MonthlyCalendar monthCalendar;
 	/**
-	 * Сʱ༭ؼ
+	 * 小时编辑控件
 	 */
 	private JSpinner jSpinH;
 	/**
-	 * ӱ༭ؼ
+	 * 分钟编辑控件
 	 */
 	private JSpinner jSpinM;
 	/**
-	 * ༭ؼ
+	 * 秒编辑控件
 	 */
 	private JSpinner jSpinS;
 
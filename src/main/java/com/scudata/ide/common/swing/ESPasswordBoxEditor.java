@@ -11,23 +11,23 @@ import javax.swing.table.TableCellEditor;
 import com.scudata.common.StringUtils;
 
 /**
- * JTableԪ༭ؼ
+ * JTable单元格的密码编辑控件
  *
  */
 public class ESPasswordBoxEditor extends AbstractCellEditor implements
 		TableCellEditor, ICellComponent {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * ؼ
+	 * 密码框控件
 	 */
 	private JPasswordField pw1;
 	/**
-	 * ǷԱ༭
+	 * 是否可以编辑
 	 */
 	private boolean editable = true;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ESPasswordBoxEditor() {
 		pw1 = new JPasswordField();
@@ -35,7 +35,7 @@ public class ESPasswordBoxEditor extends AbstractCellEditor implements
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 取编辑值
 	 */
 	public Object getCellEditorValue() {
 		String text = pw1.getText();
@@ -43,7 +43,7 @@ public class ESPasswordBoxEditor extends AbstractCellEditor implements
 	}
 
 	/**
-	 * ر༭Ŀؼ
+	 * 返回编辑的控件
 	 */
 	public Component getTableCellEditorComponent(JTable table, Object value,
 			boolean isSelected, int row, int column) {
@@ -51,7 +51,7 @@ public class ESPasswordBoxEditor extends AbstractCellEditor implements
 	}
 
 	/**
-	 * ؼ
+	 * 返回密码框控件
 	 *
 	 * @param value
 	 *            Object
@@ -68,7 +68,7 @@ public class ESPasswordBoxEditor extends AbstractCellEditor implements
 	}
 
 	/**
-	 * Ƿɱ༭
+	 * 设置是否可编辑
 	 *
 	 * @param editable
 	 *            boolean
@@ -78,7 +78,7 @@ public class ESPasswordBoxEditor extends AbstractCellEditor implements
 	}
 
 	/**
-	 * ȡ༭ֵַ
+	 * 取编辑的字符串值
 	 *
 	 * @return String
 	 */
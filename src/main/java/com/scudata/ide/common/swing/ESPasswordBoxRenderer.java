@@ -12,24 +12,24 @@ import javax.swing.table.TableCellRenderer;
 import com.scudata.common.StringUtils;
 
 /**
- * JTableԪȾ
+ * JTable单元格的密码渲染器
  *
  */
 public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent {
 
 	/**
-	 * ༭
+	 * 密码编辑框
 	 */
 	private JPasswordField pw1 = new JPasswordField();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ESPasswordBoxRenderer() {
 	}
 
 	/**
-	 * ȡʾĿؼ
+	 * 取显示的控件
 	 */
 	public Component getTableCellRendererComponent(JTable table, Object value,
 			boolean isSelected, boolean hasFocus, int row, int column) {
@@ -39,7 +39,7 @@ public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent
 	}
 
 	/**
-	 * ȡԪؼ
+	 * 取单元格控件
 	 */
 	public Component getCellComponent(Object value) {
 		if (value != null) {
@@ -74,7 +74,7 @@ public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent
 	}
 
 	/**
-	 * ȡԪʾ
+	 * 取单元格显示设置
 	 * 
 	 * @param table
 	 * @param isSelected
@@ -93,37 +93,37 @@ public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent
 	}
 
 	/**
-	 * Ԫʾ
+	 * 单元格显示设置
 	 *
 	 */
 	class CellAppr {
 		/**
-		 * ǰɫ
+		 * 前景色
 		 */
 		private Color foreground = Color.black;
 		/**
-		 * ɫ
+		 * 背景色
 		 */
 		private Color background = Color.white;
 
 		/**
-		 * 
+		 * 字体
 		 */
 		private Font font;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 */
 		public CellAppr() {
 		}
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * 
 		 * @param foreground
-		 *            ǰɫ
+		 *            前景色
 		 * @param background
-		 *            ɫ
+		 *            背景色
 		 */
 		public CellAppr(Color foreground, Color background) {
 			this.foreground = foreground;
@@ -131,7 +131,7 @@ public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent
 		}
 
 		/**
-		 * ȡǰɫ
+		 * 取前景色
 		 * 
 		 * @return
 		 */
@@ -140,7 +140,7 @@ public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent
 		}
 
 		/**
-		 * ȡɫ
+		 * 取背景色
 		 * 
 		 * @return
 		 */
@@ -149,7 +149,7 @@ public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent
 		}
 
 		/**
-		 * ǰɫ
+		 * 设置前景色
 		 * 
 		 * @param c
 		 */
@@ -158,7 +158,7 @@ public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent
 		}
 
 		/**
-		 * ñɫ
+		 * 设置背景色
 		 * 
 		 * @param c
 		 */
@@ -167,7 +167,7 @@ public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent
 		}
 
 		/**
-		 * 
+		 * 设置字体
 		 * 
 		 * @param font
 		 */
@@ -176,7 +176,7 @@ public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent
 		}
 
 		/**
-		 * ȡ
+		 * 取字体
 		 * 
 		 * @return
 		 */
@@ -185,7 +185,7 @@ public class ESPasswordBoxRenderer implements TableCellRenderer, ICellComponent
 		}
 
 		/**
-		 * Ӧõؼ
+		 * 配置应用到控件
 		 * 
 		 * @param c
 		 * @return
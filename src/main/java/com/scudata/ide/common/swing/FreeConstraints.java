@@ -3,35 +3,35 @@ package com.scudata.ide.common.swing;
 import java.io.Serializable;
 
 /**
- * ()
+ * 自由(坐标)布局设置
  *
  */
 public class FreeConstraints implements Cloneable, Serializable {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * X꣬Y꣬
+	 * X坐标，Y坐标，宽，高
 	 */
 	int x, y, w, h;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public FreeConstraints() {
 		this(0, 0, 0, 0);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param x
-	 *            X
+	 *            X坐标
 	 * @param y
-	 *            Y
+	 *            Y坐标
 	 * @param w
-	 *            
+	 *            宽
 	 * @param h
-	 *            
+	 *            高
 	 */
 	public FreeConstraints(int x, int y, int w, int h) {
 		this.x = x;
@@ -41,7 +41,7 @@ public class FreeConstraints implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ȡX
+	 * 取X坐标
 	 * 
 	 * @return
 	 */
@@ -50,7 +50,7 @@ public class FreeConstraints implements Cloneable, Serializable {
 	}
 
 	/**
-	 *  X
+	 * 设 X坐标
 	 * 
 	 * @param x
 	 */
@@ -59,7 +59,7 @@ public class FreeConstraints implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ȡY
+	 * 取Y坐标
 	 * 
 	 * @return
 	 */
@@ -68,7 +68,7 @@ public class FreeConstraints implements Cloneable, Serializable {
 	}
 
 	/**
-	 * Y
+	 * 设置Y坐标
 	 * 
 	 * @param y
 	 */
@@ -77,7 +77,7 @@ public class FreeConstraints implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ȡ
+	 * 取宽度
 	 * 
 	 * @return
 	 */
@@ -86,7 +86,7 @@ public class FreeConstraints implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ÿ
+	 * 设置宽度
 	 * 
 	 * @param w
 	 */
@@ -95,7 +95,7 @@ public class FreeConstraints implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ȡ߶
+	 * 取高度
 	 * 
 	 * @return
 	 */
@@ -104,7 +104,7 @@ public class FreeConstraints implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ø߶
+	 * 设置高度
 	 * 
 	 * @param h
 	 */
@@ -113,14 +113,14 @@ public class FreeConstraints implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ϣֵ
+	 * 哈希值
 	 */
 	public int hashCode() {
 		return Integer.parseInt("" + x + y + w + h);
 	}
 
 	/**
-	 * Ƚ
+	 * 比较
 	 */
 	public boolean equals(Object o) {
 		if (o instanceof FreeConstraints) {
@@ -132,14 +132,14 @@ public class FreeConstraints implements Cloneable, Serializable {
 	}
 
 	/**
-	 * ¡
+	 * 克隆
 	 */
 	public Object clone() {
 		return new FreeConstraints(x, y, w, h);
 	}
 
 	/**
-	 * תΪַ
+	 * 转为字符串
 	 */
 	public String toString() {
 		return "[" + x + "," + "y" + "," + w + "," + h + "]";
@@ -10,42 +10,42 @@ import java.io.Serializable;
 import java.util.Hashtable;
 
 /**
- * ɣ꣩
+ * 自由（坐标）布局
  *
  */
 public class FreeLayout implements LayoutManager2, Serializable {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * 
+	 * 宽度
 	 */
 	private int width;
 	/**
-	 * ߶
+	 * 高度
 	 */
 	private int height;
 	/**
-	 * 
+	 * 布局容器
 	 */
 	private Hashtable<Component, FreeConstraints> hashtable;
 	/**
-	 * ȱʡ
+	 * 缺省设置
 	 */
 	private static final FreeConstraints DEFAULT_CONSTRAINTS = new FreeConstraints();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public FreeLayout() {
 		hashtable = new Hashtable<Component, FreeConstraints>();
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param width
-	 *            
+	 *            宽度
 	 * @param height
-	 *            ߶
+	 *            高度
 	 */
 	public FreeLayout(int width, int height) {
 		hashtable = new Hashtable<Component, FreeConstraints>();
@@ -54,7 +54,7 @@ public class FreeLayout implements LayoutManager2, Serializable {
 	}
 
 	/**
-	 * ȡ
+	 * 取宽度
 	 * 
 	 * @return
 	 */
@@ -63,7 +63,7 @@ public class FreeLayout implements LayoutManager2, Serializable {
 	}
 
 	/**
-	 * ÿ
+	 * 设置宽度
 	 * 
 	 * @param width
 	 */
@@ -72,7 +72,7 @@ public class FreeLayout implements LayoutManager2, Serializable {
 	}
 
 	/**
-	 * ȡ߶
+	 * 取高度
 	 * 
 	 * @return
 	 */
@@ -81,7 +81,7 @@ public class FreeLayout implements LayoutManager2, Serializable {
 	}
 
 	/**
-	 * ø߶
+	 * 设置高度
 	 * 
 	 * @param height
 	 */
@@ -90,41 +90,41 @@ public class FreeLayout implements LayoutManager2, Serializable {
 	}
 
 	/**
-	 * תַ
+	 * 转字符串
 	 */
 	public String toString() {
 		return "[width=" + width + ",height=" + height + "]";
 	}
 
 	/**
-	 * Ӳ
+	 * 增加布局组件
 	 */
 	public void addLayoutComponent(String s, Component component1) {
 	}
 
 	/**
-	 * ɾ
+	 * 删除布局组件
 	 */
 	public void removeLayoutComponent(Component c) {
 		hashtable.remove(c);
 	}
 
 	/**
-	 * ƫòֳߴ
+	 * 偏好布局尺寸
 	 */
 	public Dimension preferredLayoutSize(Container container) {
 		return getLayoutSize(container, true);
 	}
 
 	/**
-	 * Сֳߴ
+	 * 最小布局尺寸
 	 */
 	public Dimension minimumLayoutSize(Container container) {
 		return getLayoutSize(container, false);
 	}
 
 	/**
-	 * ڷ
+	 * 摆放容器
 	 */
 	public void layoutContainer(Container container) {
 		Insets insets = container.getInsets();
@@ -141,7 +141,7 @@ public class FreeLayout implements LayoutManager2, Serializable {
 	}
 
 	/**
-	 * Ӳ
+	 * 增加布局组件
 	 */
 	public void addLayoutComponent(Component c, Object constraints) {
 		if (constraints instanceof FreeConstraints)
@@ -149,34 +149,34 @@ public class FreeLayout implements LayoutManager2, Serializable {
 	}
 
 	/**
-	 * 󲼾ֳߴ
+	 * 最大布局尺寸
 	 */
 	public Dimension maximumLayoutSize(Container container) {
 		return new Dimension(100000, 100000);
 	}
 
 	/**
-	 * ȡ򲼾ֶ
+	 * 取横向布局对齐
 	 */
 	public float getLayoutAlignmentX(Container container) {
 		return 0.5f;
 	}
 
 	/**
-	 * ȡ򲼾ֶ
+	 * 取纵向布局对齐
 	 */
 	public float getLayoutAlignmentY(Container container) {
 		return 0.5f;
 	}
 
 	/**
-	 * ò
+	 * 重置布局
 	 */
 	public void invalidateLayout(Container container) {
 	}
 
 	/**
-	 * ȡĳߴ
+	 * 取组件的尺寸
 	 * 
 	 * @param c
 	 * @param doPreferred
@@ -200,7 +200,7 @@ public class FreeLayout implements LayoutManager2, Serializable {
 	}
 
 	/**
-	 * ȡֵĳߴ
+	 * 取布局的尺寸
 	 * 
 	 * @param container
 	 * @param doPreferred
@@ -3,29 +3,29 @@ package com.scudata.ide.common.swing;
 import java.awt.Component;
 
 /**
- * JTableԪӿ
+ * JTable单元格组件接口
  *
  */
 public interface ICellComponent {
 	/**
-	 * ȡԪ
+	 * 取单元格组件
 	 * 
 	 * @param value
-	 *            ֵ
+	 *            格值
 	 * @return
 	 */
 	public Component getCellComponent(Object value);
 
 	/**
-	 * õԪǷɱ༭
+	 * 设置单元格是否可编辑
 	 * 
 	 * @param editable
-	 *            ԪǷɱ༭
+	 *            单元格是否可编辑
 	 */
 	public void setCellEditable(boolean editable);
 
 	/**
-	 * ȡֵַ
+	 * 取字符串值
 	 * 
 	 * @return
 	 */
@@ -10,37 +10,37 @@ import com.scudata.common.Logger;
 import com.scudata.util.Variant;
 
 /**
- * ݹʾֵҪΪStringͣʾ ֵͣҪJListExͬ
+ * 数据规则，显示值要求必须为String类型，方便显示程序 数据值可以是任意类型，此要求跟JListEx相同
  *
  */
 public class JComboBoxEx extends JComboBox {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * Ƿ޸ֵ
+	 * 是否可以修改值
 	 */
 	private boolean isItemChangeable = true;
 	/**
-	 * бģ
+	 * 下拉列表模型
 	 */
 	public DefaultComboBoxModel data = new DefaultComboBoxModel();
 	/**
-	 * ֵ
+	 * 代码值
 	 */
 	public Vector<Object> codeData = new Vector<Object>();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JComboBoxEx() {
 		super.setModel(data);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param items
-	 *            ɶŷַָ
+	 *            由逗号分隔的下拉项字符串
 	 */
 	public JComboBoxEx(String items) {
 		this();
@@ -48,12 +48,12 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param items
-	 *            delimַָ
+	 *            由delim分隔的下拉项字符串
 	 * @param delim
-	 *            ָ
+	 *            分隔符
 	 */
 	public JComboBoxEx(String items, char delim) {
 		this();
@@ -61,10 +61,10 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param items
-	 *            
+	 *            下拉项数组
 	 */
 	public JComboBoxEx(Object[] items) {
 		this();
@@ -72,10 +72,10 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param items
-	 *            
+	 *            下拉项集合
 	 */
 	public JComboBoxEx(Vector items) {
 		this();
@@ -83,10 +83,10 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param model
-	 *            ģ
+	 *            下拉框模型
 	 */
 	public JComboBoxEx(DefaultComboBoxModel model) {
 		this();
@@ -97,7 +97,7 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * ȡԱǷ޸
+	 * 取成员是否可修改
 	 * 
 	 * @return
 	 */
@@ -106,7 +106,7 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * óԱǷ޸
+	 * 设置成员是否可修改
 	 * 
 	 * @param changeable
 	 */
@@ -115,12 +115,12 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * õǰΪitems
+	 * 设置当前的数据为items
 	 *
 	 * @param items
-	 *            delimַָ
+	 *            delim分隔的下拉项字符串
 	 * @param delim
-	 *            ڷֿitemsݵķָ
+	 *            用于分开items数据的分割符号
 	 */
 	public void setListData(String items, char delim) {
 		if (items == null) {
@@ -136,20 +136,20 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * õǰΪitems
+	 * 设置当前的数据为items
 	 *
 	 * @param items
-	 *            ','ֿб
+	 *            用','分开的数据列表
 	 */
 	public void setListData(String items) {
 		setListData(items, ',');
 	}
 
 	/**
-	 * õǰΪlistData
+	 * 设置当前的数据为listData
 	 *
 	 * @param listData
-	 *            ݵĶ
+	 *            包含数据的对象数组
 	 */
 	public void setListData(Object[] listData) {
 		if (listData == null) {
@@ -164,10 +164,10 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * õǰΪlistData
+	 * 设置当前的数据为listData
 	 *
 	 * @param listData
-	 *            ݵVector
+	 *            包含数据的Vector对象
 	 */
 	public void setListData(Vector listData) {
 		if (listData == null) {
@@ -177,10 +177,10 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * õǰΪmodel
+	 * 设置当前的数据为model
 	 *
 	 * @param model
-	 *            ݵListModel
+	 *            包含数据的ListModel对象
 	 */
 	public void setModel(DefaultComboBoxModel model) {
 		if (model == null) {
@@ -191,7 +191,7 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * õǰѡ
+	 * 设置当前选择的数据
 	 */
 	public void setSelectedItem(Object anObject) {
 		if (anObject == null) {
@@ -205,9 +205,9 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * õǰбеĿ
+	 * 获得当前列表框中的所有项目名
 	 *
-	 * @return ַʽĿбб֮áֿ
+	 * @return 字符串形式的项目列表，列表之间用‘，’分开
 	 */
 	public String totalItems() {
 		if (data.getSize() == 0) {
@@ -222,14 +222,14 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * x_ Ϊǰ׺ĺʾֵʵֵʾеĺӦ x_... ʾֵַʽ ʵֵκֵ
+	 * x_ 为前缀的函数用于显示值和真实值显示，所有的函数都得用相应的 x_... 显示值必须是字符串形式， 真实值可以是任何值
 	 *
 	 * @param codeData
 	 * @param dispData
 	 */
 	public void x_setData(Vector codeData, Vector dispData) {
 		isItemChangeable = false;
-		// codeData,ÿؼActionPerformed¼еõx_getSelectedItem()д
+		// 必须得先设置codeData,否则该控件的ActionPerformed事件中得到的x_getSelectedItem()的类型有错
 
 		this.codeData.removeAllElements();
 		this.codeData.addAll(codeData);
@@ -240,12 +240,12 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * 
+	 * 排序
 	 * 
 	 * @param sortByDisp
-	 *            Ƿʾֵ
+	 *            是否用显示值排序
 	 * @param ascend
-	 *            
+	 *            正序
 	 * @return
 	 */
 	public boolean x_sort(boolean sortByDisp, boolean ascend) {
@@ -301,7 +301,7 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * ӡ
+	 * 打印
 	 * 
 	 * @param v
 	 */
@@ -331,10 +331,10 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * ʾֵȡֵ
+	 * 根据显示值取代码值
 	 * 
 	 * @param dispItem
-	 *            ʾֵ
+	 *            显示值
 	 * @return
 	 */
 	public Object x_getCodeItem(Object dispItem) {
@@ -359,10 +359,10 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * ݴֵȡʾֵ
+	 * 根据代码值取显示值
 	 * 
 	 * @param codeItem
-	 *            ֵ
+	 *            代码值
 	 * @return
 	 */
 	public String x_getDispItem(Object codeItem) {
@@ -387,12 +387,12 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * ôֵʾģ
+	 * 设置代码值和显示模型
 	 * 
 	 * @param codeData
-	 *            ֵ
+	 *            代码值
 	 * @param dispModel
-	 *            ʾģ
+	 *            显示模型
 	 */
 	public void x_setModel(Vector codeData, DefaultComboBoxModel dispModel) {
 		data = dispModel;
@@ -401,7 +401,7 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * ɾȫԱ
+	 * 删除全部成员
 	 */
 	public void x_removeAllElements() {
 		data.removeAllElements();
@@ -409,10 +409,10 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * ɾԱ
+	 * 按序号删除成员
 	 * 
 	 * @param i
-	 *            
+	 *            序号
 	 */
 	public void x_removeElement(int i) {
 		data.removeElementAt(i);
@@ -420,12 +420,12 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * ӳԱ
+	 * 增加成员
 	 * 
 	 * @param code
-	 *            ֵ
+	 *            代码值
 	 * @param disp
-	 *            ʾֵ
+	 *            显示值
 	 */
 	public void x_addElement(Object code, String disp) {
 		codeData.addElement(code);
@@ -433,7 +433,7 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * ȡǰѡĴֵ
+	 * 取当前选择的代码值
 	 * 
 	 * @return
 	 */
@@ -442,20 +442,20 @@ public class JComboBoxEx extends JComboBox {
 	}
 
 	/**
-	 * ѡʾֵ
+	 * 设置选择的显示值
 	 * 
 	 * @param dispItem
-	 *            ʾֵ
+	 *            显示值
 	 */
 	public void x_setSelectedDispItem(String dispItem) {
 		data.setSelectedItem(dispItem);
 	}
 
 	/**
-	 * ѡĴֵ
+	 * 设置选择的代码值
 	 * 
 	 * @param codeItem
-	 *            ֵ
+	 *            代码值
 	 */
 	public void x_setSelectedCodeItem(Object codeItem) {
 		x_setSelectedDispItem(x_getDispItem(codeItem));
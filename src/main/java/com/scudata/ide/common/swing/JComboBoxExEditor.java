@@ -3,7 +3,7 @@ package com.scudata.ide.common.swing;
 import javax.swing.DefaultCellEditor;
 
 /**
- * JTableԪ༭
+ * JTable单元格下拉框编辑器
  *
  */
 public class JComboBoxExEditor extends DefaultCellEditor {
@@ -11,15 +11,15 @@ public class JComboBoxExEditor extends DefaultCellEditor {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ؼ
+	 * 下拉框控件
 	 */
 	JComboBoxEx combo;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param cbe
-	 *            ؼ
+	 *            下拉框控件
 	 */
 	public JComboBoxExEditor(JComboBoxEx cbe) {
 		super(cbe);
@@ -27,14 +27,14 @@ public class JComboBoxExEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 取编辑值
 	 */
 	public Object getCellEditorValue() {
 		return combo.x_getSelectedItem();
 	}
 
 	/**
-	 * ȡؼ
+	 * 取控件
 	 * 
 	 * @return
 	 */
@@ -9,7 +9,7 @@ import javax.swing.JTextField;
 import javax.swing.table.TableCellRenderer;
 
 /**
- * JTableԪȾ
+ * JTable单元格下拉框渲染器
  *
  */
 public class JComboBoxExRenderer extends JTextField implements
@@ -17,15 +17,15 @@ public class JComboBoxExRenderer extends JTextField implements
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ؼ
+	 * 下拉框控件
 	 */
 	JComboBoxEx combo;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param combo
-	 *            ؼ
+	 *            下拉框控件
 	 */
 	public JComboBoxExRenderer(JComboBoxEx combo) {
 		setHorizontalAlignment(JLabel.CENTER);
@@ -33,7 +33,7 @@ public class JComboBoxExRenderer extends JTextField implements
 	}
 
 	/**
-	 * ȡȾؼ
+	 * 取渲染器控件
 	 */
 	public Component getTableCellRendererComponent(JTable table, Object value,
 			boolean isSelected, boolean hasFocus, int row, int column) {
@@ -56,7 +56,7 @@ public class JComboBoxExRenderer extends JTextField implements
 	}
 
 	/**
-	 * ȡؼ
+	 * 取下拉框控件
 	 */
 	public JComboBoxEx getJComboBoxEx() {
 		return combo;
@@ -10,23 +10,23 @@ import javax.swing.JLabel;
 import javax.swing.JTextField;
 
 /**
- * ֧»ߵıǩؼ
+ * 支持下划线的标签控件
  *
  */
 public class JLabelUnderLine extends JLabel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * »ɫ
+	 * 下划线颜色
 	 */
 	private Color underLineColor = Color.BLUE;
 	/**
-	 * ʾֵ
+	 * 显示值
 	 */
 	String codeText = null;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JLabelUnderLine() {
 		super("");
@@ -35,14 +35,14 @@ public class JLabelUnderLine extends JLabel {
 	}
 
 	/**
-	 * ʾֵ
+	 * 设置显示值
 	 * 
 	 * @param value
-	 *            ʾֵ
+	 *            显示值
 	 */
 	public void setValue(Object value) {
 		if (value != null && !"".equals(value) && value instanceof String) {
-			// ֻзǿַcodeText
+			// 只有非空字符串才有codeText
 			codeText = value.toString();
 		} else {
 			codeText = null;
@@ -50,7 +50,7 @@ public class JLabelUnderLine extends JLabel {
 	}
 
 	/**
-	 * ȡ»ɫ
+	 * 取下划线颜色
 	 * 
 	 * @return
 	 */
@@ -59,7 +59,7 @@ public class JLabelUnderLine extends JLabel {
 	}
 
 	/**
-	 * »ɫ
+	 * 设置下划线颜色
 	 * 
 	 * @param pUnderLineColor
 	 */
@@ -68,7 +68,7 @@ public class JLabelUnderLine extends JLabel {
 	}
 
 	/**
-	 * 
+	 * 绘制
 	 */
 	public void paint(Graphics g) {
 		super.paint(g);
@@ -108,7 +108,7 @@ public class JLabelUnderLine extends JLabel {
 		}
 		int stringWidth = getFontMetrics(getFont()).stringWidth(dispText) - GAP;
 		int halign = this.getHorizontalAlignment();
-		// ǴԵΪӸ
+		// 左边总是从最边缘画，人为加个间隔
 		switch (halign) {
 		case JLabel.LEFT:
 			pointX = xoffset + GAP;
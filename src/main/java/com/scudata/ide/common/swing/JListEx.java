@@ -21,9 +21,9 @@ import com.scudata.common.ArgumentTokenizer;
 import com.scudata.ide.common.GM;
 
 /**
- * JList
+ * 扩充的JList
  * 
- * ݷװڸ ݹʾֵҪΪStringͣʾ ֵͣҪJComboBoxExͬ
+ * 将数据封装在该类 数据规则，显示值要求必须为String类型，方便显示程序 数据值可以是任意类型，此要求跟JComboBoxEx相同
  * 
  */
 
@@ -31,17 +31,17 @@ public class JListEx extends JList {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * бģ
+	 * 列表模型
 	 */
 	public DefaultListModel data = new DefaultListModel();
 
 	/**
-	 * ֵ
+	 * 代码值
 	 */
 	private Vector<Object> codeData = new Vector<Object>();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JListEx() {
 		super.setModel(data);
@@ -91,12 +91,12 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param items
-	 *            delimָбֵַ
+	 *            由delim分隔的列表值字符串
 	 * @param delim
-	 *            ָ
+	 *            分隔符
 	 */
 	public JListEx(String items, char delim) {
 		this();
@@ -104,20 +104,20 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param items
-	 *            ɶŷָбֵַ
+	 *            由逗号分隔的列表值字符串
 	 */
 	public JListEx(String items) {
 		this(items, ',');
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param items
-	 *            бֵ
+	 *            列表值数组
 	 */
 	public JListEx(Object[] items) {
 		this();
@@ -125,10 +125,10 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param items
-	 *            бֵ
+	 *            列表值集合
 	 */
 	public JListEx(Vector items) {
 		this();
@@ -136,10 +136,10 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param model
-	 *            бģ
+	 *            列表模型
 	 */
 	public JListEx(DefaultListModel model) {
 		this();
@@ -150,26 +150,26 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ƶݵĴĬûùܸ÷Զdropڿؼ
-	 * ûбҪԼݣ绹Ҫ𸲸Ǹ÷Ȼ󷵻true 
+	 * 移动数据的处理方法，默认情况用户不用管该方法，程序自动将数据drop到所在控件，
+	 * 如果用户有必要自己处理数据，比如还要作其他操作，责覆盖该方法，然后返回true就 可以
 	 * 
 	 * @param moveData
-	 *            String ŷָѡеJListѡ
+	 *            String 逗号分割的选中的JList的选项
 	 * @param dropedControl
-	 *            JComponent DropĿؼ
-	 * @return boolean ûǷԼ˸÷ǵĻӦ÷truefalse
+	 *            JComponent 鼠标Drop的控件
+	 * @return boolean 用户是否自己处理了该方法，是的话应该返回true，否则false。
 	 */
 	public boolean moveDropTarget(String moveData, JComponent dropedControl) {
 		return false;
 	}
 
 	/**
-	 * õǰΪitems
+	 * 设置当前的数据为items
 	 * 
 	 * @param items
-	 *            б
+	 *            数据列表
 	 * @param delim
-	 *            ڷֿitemsݵķָ
+	 *            用用于分开items数据的分割符号
 	 */
 	public void setListData(String items, char delim) {
 		if (items == null) {
@@ -183,20 +183,20 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * õǰΪitems
+	 * 设置当前的数据为items
 	 * 
 	 * @param items
-	 *            áֿб
+	 *            用‘，’分开的数据列表
 	 */
 	public void setListData(String items) {
 		setListData(items, ',');
 	}
 
 	/**
-	 * õǰΪlistData
+	 * 设置当前的数据为listData
 	 * 
 	 * @param listData
-	 *            ݵĶ
+	 *            包含数据的对象数组
 	 */
 	public void setListData(Object[] listData) {
 		if (listData == null) {
@@ -209,10 +209,10 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * õǰΪlistData
+	 * 设置当前的数据为listData
 	 * 
 	 * @param listData
-	 *            ݵVector
+	 *            包含数据的Vector对象
 	 */
 	public void setListData(List listData) {
 		if (listData == null) {
@@ -222,10 +222,10 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * õǰΪmodel
+	 * 设置当前的数据为model
 	 * 
 	 * @param model
-	 *            ݵListModel
+	 *            包含数据的ListModel对象
 	 */
 	public void setModel(DefaultListModel model) {
 		if (model == null) {
@@ -236,7 +236,7 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ɾǰбеѡеĿ
+	 * 删除当前列表框中的所有选中的项目
 	 */
 	public void removeSelectedItems() {
 		if (this.data.size() == 0) {
@@ -249,9 +249,9 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * õǰбеĿ
+	 * 获得当前列表框中的所有项目名
 	 * 
-	 * @return ַʽĿбб֮áֿ
+	 * @return 字符串形式的项目列表，列表之间用‘，’分开
 	 */
 	public String totalItems() {
 		if (data.getSize() == 0) {
@@ -266,9 +266,9 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * õǰбеѡеĿ
+	 * 获得当前列表框中的所有选中的项目名
 	 * 
-	 * @return ַʽĿбб֮áֿ
+	 * @return 字符串形式的项目列表，列表之间用‘，’分开
 	 */
 	public String selectedItems() {
 		StringBuffer sb = new StringBuffer();
@@ -284,7 +284,7 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ȡŷָбֵַ
+	 * 取逗号分隔的列表值字符串
 	 * 
 	 * @return
 	 */
@@ -293,11 +293,11 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ǰʵComparableݰָ˳
+	 * 如果当前数据实现了Comparable，则对数据按照指定的顺序排序
 	 * 
 	 * @param asc
-	 *            ascendǷ
-	 * @return 򷵻true,false
+	 *            ascend，是否按照升序排列
+	 * @return 如果可以排序返回true,否则false
 	 */
 	public boolean sort(boolean ascend) {
 		Comparable ci, cj;
@@ -328,7 +328,7 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * x_ Ϊǰ׺ĺʾֵʵֵʾеĺӦ x_...
+	 * x_ 为前缀的函数用于显示值和真实值显示，所有的函数都得用相应的 x_...
 	 * 
 	 * @param codeData
 	 * @param dispData
@@ -341,12 +341,12 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * 
+	 * 排序
 	 * 
 	 * @param sortByDisp
-	 *            Ƿͨʾֵ
+	 *            是否通过显示值排序
 	 * @param ascend
-	 *            Ƿ
+	 *            是否正序
 	 * @return
 	 */
 	public boolean x_sort(boolean sortByDisp, boolean ascend) {
@@ -399,10 +399,10 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ʾֵȡֵ
+	 * 根据显示值取代码值
 	 * 
 	 * @param dispItem
-	 *            ʾֵ
+	 *            显示值
 	 * @return
 	 */
 	public Object x_getCodeItem(String dispItem) {
@@ -424,10 +424,10 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ݴֵȡʾֵ
+	 * 根据代码值取显示值
 	 * 
 	 * @param codeItem
-	 *            ֵ
+	 *            代码值
 	 * @return
 	 */
 	public String x_getDispItem(Object codeItem) {
@@ -449,7 +449,7 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ȡѡбֵ
+	 * 取选择的列表值
 	 * 
 	 * @return
 	 */
@@ -467,7 +467,7 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ʾģͺʹֵ
+	 * 设置显示模型和代码值
 	 * 
 	 * @param codeData
 	 * @param dispModel
@@ -479,7 +479,7 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ɾгԱ
+	 * 删除所有成员
 	 */
 	public void x_removeAllElements() {
 		data.removeAllElements();
@@ -487,10 +487,10 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ɾԱ
+	 * 按序号删除成员
 	 * 
 	 * @param i
-	 *            
+	 *            序号
 	 */
 	public void x_removeElement(int i) {
 		data.removeElementAt(i);
@@ -498,7 +498,7 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ɾѡĳԱ
+	 * 删除选择的成员
 	 */
 	public void x_removeSelectedItems() {
 		int[] ii = getSelectedIndices();
@@ -508,7 +508,7 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ȡѡֵ
+	 * 取选择的值
 	 * 
 	 * @return
 	 */
@@ -522,12 +522,12 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ӳԱ
+	 * 增加成员
 	 * 
 	 * @param code
-	 *            ֵ
+	 *            代码值
 	 * @param disp
-	 *            ʾֵ
+	 *            显示值
 	 */
 	public void x_addElement(Object code, String disp) {
 		codeData.addElement(code);
@@ -535,14 +535,14 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * Ա
+	 * 插入成员
 	 * 
 	 * @param index
-	 *            
+	 *            序号
 	 * @param code
-	 *            ֵ
+	 *            代码值
 	 * @param disp
-	 *            ʾֵ
+	 *            显示值
 	 */
 	public void x_insertElement(int index, Object code, String disp) {
 		codeData.insertElementAt(code, index);
@@ -550,14 +550,14 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * óԱ
+	 * 按序号设置成员
 	 * 
 	 * @param index
-	 *            
+	 *            序号
 	 * @param code
-	 *            ֵ
+	 *            代码值
 	 * @param disp
-	 *            ʾֵ
+	 *            显示值
 	 */
 	public void x_setElementAt(int index, Object code, String disp) {
 		codeData.setElementAt(code, index);
@@ -565,12 +565,12 @@ public class JListEx extends JList {
 	}
 
 	/**
-	 * ƶԱ
+	 * 移动成员
 	 * 
 	 * @param index
-	 *            
+	 *            序号
 	 * @param shiftUp
-	 *            Ƿ
+	 *            是否上移
 	 */
 	public void x_shiftElement(int index, boolean shiftUp) {
 		if (shiftUp && index <= 0) {
@@ -602,28 +602,28 @@ public class JListEx extends JList {
 }
 
 /**
- * бľ
+ * 列表的句柄
  *
  */
 class JListExHandler extends TransferHandler {
 
 	/**
-	 * бؼ
+	 * 列表控件
 	 */
 	JListEx home;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param home
-	 *            бؼ
+	 *            列表控件
 	 */
 	public JListExHandler(JListEx home) {
 		this.home = home;
 	}
 
 	/**
-	 * ǷԵ
+	 * 是否可以导入
 	 */
 	public boolean canImport(JComponent c, DataFlavor[] flavors) {
 		return (c instanceof JListEx || c instanceof JTextArea
@@ -631,7 +631,7 @@ class JListExHandler extends TransferHandler {
 	}
 
 	/**
-	 * ڽӿlistDataҵitem
+	 * 在接口listData中找到对象item的序号
 	 * 
 	 * @param listData
 	 * @param item
@@ -648,7 +648,7 @@ class JListExHandler extends TransferHandler {
 	}
 
 	/**
-	 * 
+	 * 导入数据
 	 */
 	public boolean importData(JComponent c, Transferable t) {
 		try {
@@ -693,14 +693,14 @@ class JListExHandler extends TransferHandler {
 	}
 
 	/**
-	 * ȡԴ
+	 * 取源命令
 	 */
 	public int getSourceActions(JComponent c) {
 		return COPY_OR_MOVE;
 	}
 
 	/**
-	 * ƶTransferable
+	 * 创建移动的Transferable对象
 	 */
 	protected Transferable createTransferable(JComponent c) {
 		JListEx list = (JListEx) c;
@@ -16,14 +16,14 @@ public class JOptionPaneEx extends JOptionPane {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JOptionPaneEx() {
 		super();
 	}
 
 	/**
-	 * ȡ
+	 * 获取父窗口
 	 * 
 	 * @param parentComponent
 	 * @return
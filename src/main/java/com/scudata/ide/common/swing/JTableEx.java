@@ -50,7 +50,7 @@ import com.scudata.ide.common.GV;
 import com.scudata.ide.common.resources.IdeCommonMessage;
 
 /**
- * չJTableע: ͨjTable.getValueAtܷʱ˵, һ jTable.data.getValueAt
+ * 扩展的JTable。注意: 由于通过jTable.getValueAt不能访问被隐藏了的列,所以 一般用 jTable.data.getValueAt
  */
 
 public class JTableEx extends JTable implements MouseListener,
@@ -58,54 +58,54 @@ public class JTableEx extends JTable implements MouseListener,
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * ģ
+	 * 表格模型
 	 */
 	public DefaultTableModel data = new DefaultTableModel();
 
 	/**
-	 * ʾֹʹdata.setRowCount(0);this.removeAllRows()
+	 * 提示，禁止使用data.setRowCount(0);而用this.removeAllRows()
 	 */
 	private int indexCol = -1;
 
 	/**
-	 * columnKeeper ڱסбежʹhideColumn()Լ showColumn()ʵ
-	 * ע⶯̬TableееʱֻʹTable.AddColumn(col); ע!!!!!!!!!!!!!!!!!!!!!!
-	 * ҪʹTable.data.AddColumn(col)
+	 * columnKeeper 用于保存住列表中的列对象；使得hideColumn()以及 showColumn()方法得以实现
+	 * 注意动态增加Table中的列的时候，只能使用Table.AddColumn(col); 注意!!!!!!!!!!!!!!!!!!!!!!
+	 * 而不要使用Table.data.AddColumn(col)
 	 */
 	private HashMap<Object, TableColumn> columnKeeper = new HashMap<Object, TableColumn>();
 
 	/**
-	 * Ƿ񼤻н仯
+	 * 是否激活行焦点变化
 	 */
 	private boolean ifFireRowfocusChangedEvent = true;
 
 	/**
-	 * 
+	 * 鼠标点击监听器容器
 	 */
 	public HashSet<JTableExListener> clickedListener = new HashSet<JTableExListener>();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JTableEx() {
 		setModel(data);
 		addMouseListener(this);
 		addTableExListener(this);
 		getColumnModel().addColumnModelListener(new TableColListener(this));
-		// Ĭϲ֧ŲУ˫¼ò
+		// 默认不支持挪动列，否则双击事件设置不对
 		getTableHeader().setReorderingAllowed(false);
 
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param colNames 
+	 * @param colNames 列名数组
 	 */
 	public JTableEx(String[] colNames) {
 		this();
@@ -118,40 +118,40 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param columnNames ŷָ
+	 * @param columnNames 逗号分隔的列名
 	 */
 	public JTableEx(String columnNames) {
 		this(new Section(columnNames).toStringArray());
 	}
 
 	/**
-	 * Ҽ¼
+	 * 鼠标右键点击事件
 	 */
 	public void rightClicked(int xpos, int ypos, int row, int col, MouseEvent e) {
 	}
 
 	/**
-	 * ˫¼
+	 * 鼠标双击事件
 	 */
 	public void doubleClicked(int xpos, int ypos, int row, int col, MouseEvent e) {
 	}
 
 	/**
-	 * ¼
+	 * 鼠标点击事件
 	 */
 	public void clicked(int xpos, int ypos, int row, int col, MouseEvent e) {
 	}
 
 	/**
-	 * н仯¼
+	 * 行焦点变化事件
 	 */
 	public void rowfocusChanged(int oldRow, int newRow) {
 	}
 
 	/**
-	 * нڱ仯¼
+	 * 行焦点正在变化事件
 	 * 
 	 * @param oldRow
 	 * @param newRow
@@ -160,7 +160,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ¼
+	 * 鼠标点击事件
 	 */
 	public void mouseClicked(final MouseEvent e) {
 		java.awt.Container p = getParent();
@@ -175,33 +175,33 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 갴¼
+	 * 鼠标按键事件
 	 */
 	public void mousePressed(MouseEvent e) {
 	}
 
 	/**
-	 * ¼
+	 * 鼠标光标进入事件
 	 */
 	public void mouseEntered(MouseEvent e) {
 	}
 
 	/**
-	 * ͷ¼
+	 * 鼠标释放事件
 	 */
 	public void mouseReleased(MouseEvent e) {
-		// ѡжûػ
+		// 部分选中行动作，没有重画界面
 		repaint();
 	}
 
 	/**
-	 * ˳¼
+	 * 鼠标退出事件
 	 */
 	public void mouseExited(MouseEvent e) {
 	}
 
 	/**
-	 * 
+	 * 管理列名
 	 */
 	void holdColumnNames() {
 		if (columnKeeper == null) {
@@ -222,7 +222,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * õν༭״̬
+	 * 设置点击几次进入编辑状态
 	 * 
 	 * @param startCount
 	 */
@@ -241,11 +241,11 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ֵǷ仯
+	 * 值是否发生变化了
 	 * 
-	 * @param row      к
-	 * @param column   к
-	 * @param newValue ֵ
+	 * @param row      行号
+	 * @param column   列号
+	 * @param newValue 新值
 	 * @return
 	 */
 	protected boolean isItemDataChanged(int row, int column, Object newValue) {
@@ -269,11 +269,11 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 导出数据
 	 * 
-	 * @param exportTitle Ƿ񵼳
+	 * @param exportTitle 是否导出标题
 	 * @param fw          FileWriter
-	 * @param dosFormat   ʽ
+	 * @param dosFormat   格式
 	 * @return
 	 * @throws Exception
 	 */
@@ -313,7 +313,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ñģ
+	 * 设置表模型
 	 */
 	public void setModel(TableModel dataModel) {
 		data = (DefaultTableModel) dataModel;
@@ -323,9 +323,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 重设列名
 	 * 
-	 * @param newColNames б
+	 * @param newColNames 列名列表
 	 */
 	public void resetColumns(ArrayList newColNames) {
 		data.setColumnCount(0);
@@ -336,7 +336,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ύ
+	 * 接受提交数据
 	 */
 	public void acceptText() {
 		if (getCellEditor() != null && getRowCount() > 0) {
@@ -351,7 +351,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * Ӽ
+	 * 增加监听器
 	 * 
 	 * @param jcl
 	 */
@@ -360,7 +360,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ɾ
+	 * 删除监听器
 	 * 
 	 * @param jcl
 	 */
@@ -369,11 +369,11 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ¼
+	 * 触发鼠标点击事件
 	 * 
-	 * @param xpos X
-	 * @param ypos Y
-	 * @param e    ¼
+	 * @param xpos X坐标
+	 * @param ypos Y坐标
+	 * @param e    鼠标事件
 	 */
 	public void fireClicked(int xpos, int ypos, MouseEvent e) {
 		Iterator it = clickedListener.iterator();
@@ -417,7 +417,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 增加列
 	 * 
 	 * @param colName
 	 */
@@ -427,9 +427,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ɾָУModel
+	 * 真正删除了指定的列，包括数据Model
 	 * 
-	 * @param aColumn TableColumnж
+	 * @param aColumn TableColumn列对象
 	 */
 	public void deleteColumn(TableColumn aColumn) {
 		String colName = (String) aColumn.getIdentifier();
@@ -449,9 +449,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȡж
+	 * 取列对象
 	 * 
-	 * @param columnIndex к
+	 * @param columnIndex 列号
 	 * @return
 	 */
 	public TableColumn getColumn(int columnIndex) {
@@ -459,9 +459,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȡж
+	 * 取列对象
 	 * 
-	 * @param colName 
+	 * @param colName 列名
 	 * @return
 	 */
 	public int getColumnIndex(String colName) {
@@ -469,10 +469,10 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȡ
+	 * 取列序号
 	 * 
-	 * @param colName            
-	 * @param includeHideColumns Ƿ
+	 * @param colName            列名
+	 * @param includeHideColumns 是否包含隐藏列
 	 * @return
 	 */
 	public int getColumnIndex(String colName, boolean includeHideColumns) {
@@ -495,7 +495,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ɾ
+	 * 删除所有行
 	 */
 	public void removeAllRows() {
 		data.setRowCount(0);
@@ -503,9 +503,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȡ
+	 * 取列数据
 	 * 
-	 * @param colIndex к
+	 * @param colIndex 列号
 	 * @return
 	 */
 	public Vector<Object> getColumnData(int colIndex) {
@@ -517,12 +517,12 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * См
+	 * 最小化的列集合
 	 */
 	private transient HashMap<Integer, String> minimizedColumn = new HashMap<Integer, String>();
 
 	/**
-	 * СУеĿΪ0ڿ
+	 * 最小化列，即把列的宽度设为0，以至于看不见
 	 * 
 	 * @param colIndex int
 	 */
@@ -541,7 +541,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ԭС
+	 * 还原最小化的列
 	 * 
 	 * @param colIndex int
 	 */
@@ -568,9 +568,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 隐藏列
 	 * 
-	 * @param columnName 
+	 * @param columnName 列名
 	 */
 	public void hideColumn(String columnName) {
 		if (!isColumnVisible(columnName)) {
@@ -583,20 +583,20 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * Ƿ
+	 * 设置列是否可用
 	 * 
-	 * @param columnIndex к
-	 * @param enable      Ƿ
+	 * @param columnIndex 列号
+	 * @param enable      是否可用
 	 */
 	public void setColumnEnable(int columnIndex, boolean enable) {
 		setColumnEnable(getColumnName(columnIndex), enable);
 	}
 
 	/**
-	 * Ƿ
+	 * 设置列是否可用
 	 * 
-	 * @param columnName 
-	 * @param enable     Ƿɱ༭
+	 * @param columnName 列名
+	 * @param enable     是否可编辑
 	 */
 	public void setColumnEnable(String columnName, boolean enable) {
 		if (!isColumnVisible(columnName)) {
@@ -628,9 +628,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȡб༭
+	 * 取列编辑器
 	 * 
-	 * @param columnIndex к
+	 * @param columnIndex 列号
 	 * @return
 	 */
 	public TableCellEditor getColumnEditor(int columnIndex) {
@@ -639,18 +639,18 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȱʡ༭ؼ
+	 * 设置列缺省编辑控件
 	 * 
-	 * @param columnIndex к
+	 * @param columnIndex 列号
 	 */
 	public void setColumnDefaultEditor(int columnIndex) {
 		setColumnDefaultEditor(getColumnName(columnIndex));
 	}
 
 	/**
-	 * ȱʡ༭ؼ
+	 * 设置列缺省编辑控件
 	 * 
-	 * @param columnName 
+	 * @param columnName 列名
 	 */
 	public void setColumnDefaultEditor(String columnName) {
 		TableColumn col = getColumn(columnName);
@@ -661,18 +661,18 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ֵ༭ؼ
+	 * 设置列数值编辑控件
 	 * 
-	 * @param columnIndex к
+	 * @param columnIndex 列号
 	 */
 	public void setColumnSpinner(int columnIndex) {
 		setColumnSpinner(getColumnName(columnIndex));
 	}
 
 	/**
-	 * ֵ༭ؼ
+	 * 设置列数值编辑控件
 	 * 
-	 * @param columnName 
+	 * @param columnName 列名
 	 */
 	public void setColumnSpinner(String columnName) {
 		DefaultCellEditor integerEditor = new JTextAreaEditor(this,
@@ -682,38 +682,38 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * иѡؼ
+	 * 设置列复选框控件
 	 * 
-	 * @param columnIndex к
+	 * @param columnIndex 列号
 	 */
 	public void setColumnCheckBox(int columnIndex) {
 		setColumnCheckBox(getColumnName(columnIndex));
 	}
 
 	/**
-	 * иѡؼ
+	 * 设置列复选框控件
 	 * 
-	 * @param columnIndex к
-	 * @param enable      Ƿɱ༭
+	 * @param columnIndex 列号
+	 * @param enable      是否可编辑
 	 */
 	public void setColumnCheckBox(int columnIndex, boolean enable) {
 		setColumnCheckBox(getColumnName(columnIndex), enable);
 	}
 
 	/**
-	 * иѡؼ
+	 * 设置列复选框控件
 	 * 
-	 * @param columnName 
+	 * @param columnName 列名
 	 */
 	public void setColumnCheckBox(String columnName) {
 		setColumnCheckBox(columnName, true);
 	}
 
 	/**
-	 * иѡؼ
+	 * 设置列复选框控件
 	 * 
-	 * @param columnName 
-	 * @param enable     Ƿɱ༭
+	 * @param columnName 列名
+	 * @param enable     是否可编辑
 	 */
 	public void setColumnCheckBox(String columnName, final boolean enable) {
 		JCheckBox checkBoxEditor = new JCheckBox();
@@ -756,11 +756,11 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ؼ
+	 * 设置列下拉控件
 	 * 
-	 * @param columnIndex к
-	 * @param codeItems   ֵ
-	 * @param dispItems   ʾֵ
+	 * @param columnIndex 列号
+	 * @param codeItems   代码值
+	 * @param dispItems   显示值
 	 * @return
 	 */
 	public JComboBoxEx setColumnDropDown(int columnIndex, Vector codeItems,
@@ -770,17 +770,17 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ؼ
+	 * 设置列下拉控件
 	 * 
-	 * @param columnIndex к
-	 * @param codeItems   ֵ
-	 * @param dispItems   ʾֵ
-	 * @param editable    Ƿɱ༭
+	 * @param columnIndex 列号
+	 * @param codeItems   代码值
+	 * @param dispItems   显示值
+	 * @param editable    是否可编辑
 	 * @return
 	 */
 	public JComboBoxEx setColumnDropDown(int columnIndex, Vector codeItems,
 			Vector dispItems, boolean editable) {
-		// ηʱǰؼҪˢ
+		// 多次反复设置下拉列时，当前的下拉控件要先清除掉，否则不能立刻刷新
 		acceptText();
 
 		return setColumnDropDown(getColumnName(columnIndex), codeItems,
@@ -788,11 +788,11 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ؼ
+	 * 设置列下拉控件
 	 * 
-	 * @param columnName 
-	 * @param codeItems  ֵ
-	 * @param dispItems  ʾֵ
+	 * @param columnName 列名
+	 * @param codeItems  代码值
+	 * @param dispItems  显示值
 	 * @return
 	 */
 	public JComboBoxEx setColumnDropDown(String columnName, Vector codeItems,
@@ -801,12 +801,12 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ؼ
+	 * 设置列下拉控件
 	 * 
-	 * @param columnName 
-	 * @param codeItems  ֵ
-	 * @param dispItems  ʾֵ
-	 * @param editable   Ƿɱ༭
+	 * @param columnName 列名
+	 * @param codeItems  代码值
+	 * @param dispItems  显示值
+	 * @param editable   是否可编辑
 	 * @return
 	 */
 	public JComboBoxEx setColumnDropDown(final String columnName,
@@ -830,21 +830,21 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * Ƿɱ༭
+	 * 设置列是否可编辑
 	 * 
-	 * @param columnIndex к
-	 * @param allowEdit   Ƿɱ༭
+	 * @param columnIndex 列号
+	 * @param allowEdit   是否可编辑
 	 */
 	public void setColumnEditable(int columnIndex, boolean allowEdit) {
 		setColumnEditable(getColumnName(columnIndex), allowEdit);
 	}
 
 	/**
-	 * Ƿɱ༭
+	 * 设置列是否可编辑
 	 * 
-	 * @param columnIndex к
-	 * @param allowEdit   Ƿɱ༭
-	 * @param centerAlign Ƿʾ
+	 * @param columnIndex 列号
+	 * @param allowEdit   是否可编辑
+	 * @param centerAlign 是否居中显示
 	 */
 	public void setColumnEditable(int columnIndex, boolean allowEdit,
 			boolean centerAlign) {
@@ -852,21 +852,21 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * Ƿɱ༭
+	 * 设置列是否可编辑
 	 * 
-	 * @param columnName 
-	 * @param allowEdit  Ƿɱ༭
+	 * @param columnName 列名
+	 * @param allowEdit  是否可编辑
 	 */
 	public void setColumnEditable(String columnName, boolean allowEdit) {
 		setColumnEditable(columnName, allowEdit, false);
 	}
 
 	/**
-	 * Ƿɱ༭
+	 * 设置列是否可编辑
 	 * 
-	 * @param columnName  
-	 * @param allowEdit   Ƿɱ༭
-	 * @param centerAlign Ƿʾ
+	 * @param columnName  列名
+	 * @param allowEdit   是否可编辑
+	 * @param centerAlign 是否居中显示
 	 */
 	public void setColumnEditable(String columnName, boolean allowEdit,
 			final boolean centerAlign) {
@@ -935,10 +935,10 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * е
+	 * 设置列的最大宽度
 	 * 
-	 * @param columnIndex к
-	 * @param width       
+	 * @param columnIndex 列号
+	 * @param width       宽度
 	 */
 	public void setColumnFixedWidth(int columnIndex, int width) {
 		String columnName = getColumnName(columnIndex);
@@ -951,20 +951,20 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * п
+	 * 设置列宽度
 	 * 
-	 * @param columnIndex к
-	 * @param width       
+	 * @param columnIndex 列号
+	 * @param width       宽度
 	 */
 	public void setColumnWidth(int columnIndex, int width) {
 		setColumnWidth(getColumnName(columnIndex), width);
 	}
 
 	/**
-	 * п
+	 * 设置列宽度
 	 * 
-	 * @param columnName 
-	 * @param width      
+	 * @param columnName 列名
+	 * @param width      宽度
 	 */
 	public void setColumnWidth(String columnName, int width) {
 		if (!isColumnVisible(columnName)) {
@@ -974,28 +974,28 @@ public class JTableEx extends JTable implements MouseListener,
 		col.setPreferredWidth(width);
 	}
 
-	/**  */
+	/** 横向左对齐 */
 	static public int ALIGN_LEFT = JLabel.LEFT;
-	/** ж */
+	/** 横向居中对齐 */
 	static public int ALIGN_CENTER = JLabel.CENTER;
-	/** Ҷ */
+	/** 横向右对齐 */
 	static public int ALIGN_RIGHT = JLabel.RIGHT;
 
 	/**
-	 * еĺ
+	 * 设置列的横向对齐
 	 * 
-	 * @param columnIndex к
-	 * @param alignment   뷽ʽ
+	 * @param columnIndex 列号
+	 * @param alignment   对齐方式
 	 */
 	public void setColumnAlign(int columnIndex, int alignment) {
 		setColumnAlign(getColumnName(columnIndex), alignment);
 	}
 
 	/**
-	 * еĺ
+	 * 设置列的横向对齐
 	 * 
-	 * @param columnName 
-	 * @param alignment  뷽ʽ
+	 * @param columnName 列名
+	 * @param alignment  对齐方式
 	 */
 	public void setColumnAlign(String columnName, int alignment) {
 		if (!isColumnVisible(columnName)) {
@@ -1019,10 +1019,10 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȡ
+	 * 取行数据
 	 * 
-	 * @param row к
-	 * @return 
+	 * @param row 行号
+	 * @return 行数据数组
 	 */
 	public Object[] getRowDataArray(int row) {
 		int colCount = data.getColumnCount();
@@ -1037,9 +1037,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȡݵַ\tָ
+	 * 取行数据的字符串，由\t分隔
 	 * 
-	 * @param row к
+	 * @param row 行号
 	 * @return
 	 */
 	public String getRowData(int row) {
@@ -1059,7 +1059,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȡݿ飬\t\nָ
+	 * 取数据块，由\t和\n分隔
 	 * 
 	 * @return
 	 */
@@ -1079,9 +1079,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ݿַ
+	 * 设置数据块的字符串
 	 * 
-	 * @param ls_data \t\nָ
+	 * @param ls_data 由\t和\n分隔
 	 * @return
 	 */
 	public int setBlockData(String ls_data) {
@@ -1130,7 +1130,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 设置序号列
 	 * 
 	 * @param indexCol
 	 */
@@ -1142,7 +1142,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 重置序号列
 	 */
 	public void resetIndex() {
 		if (indexCol == -1) {
@@ -1156,10 +1156,10 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 检查列数据
 	 * 
-	 * @param colIndex 
-	 * @param colDesc  
+	 * @param colIndex 列序号
+	 * @param colDesc  列描述
 	 * @return
 	 */
 	public boolean checkColumnData(int colIndex, String colDesc) {
@@ -1167,10 +1167,10 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 检查列数据
 	 * 
-	 * @param colIndex 
-	 * @param colDesc  
+	 * @param colIndex 列序号
+	 * @param colDesc  列描述
 	 * @return
 	 */
 	public boolean verifyColumnData(int colIndex, String colDesc) {
@@ -1178,11 +1178,11 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 检查列数据
 	 * 
-	 * @param colIndex   
-	 * @param colDesc    
-	 * @param caseRepeat Ƿظ
+	 * @param colIndex   列序号
+	 * @param colDesc    列描述
+	 * @param caseRepeat 是否检查列数据重复
 	 * @return
 	 */
 	public boolean verifyColumnData(int colIndex, String colDesc,
@@ -1191,12 +1191,12 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 检查列数据
 	 * 
-	 * @param colIndex   
-	 * @param colDesc    
-	 * @param caseRepeat Ƿظ
-	 * @param parent     
+	 * @param colIndex   列序号
+	 * @param colDesc    列描述
+	 * @param caseRepeat 是否检查列数据重复
+	 * @param parent     父组件
 	 * @return
 	 */
 	public boolean verifyColumnData(int colIndex, String colDesc,
@@ -1205,13 +1205,13 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 检查列数据
 	 * 
-	 * @param colIndex   
-	 * @param colDesc    
-	 * @param caseNull ǷǷΪ
-	 * @param caseRepeat Ƿظ
-	 * @param parent     
+	 * @param colIndex   列序号
+	 * @param colDesc    列描述
+	 * @param caseNull 是否检查列数据是否为空
+	 * @param caseRepeat 是否检查列数据重复
+	 * @param parent     父组件
 	 * @return
 	 */
 	public boolean verifyColumnData(int colIndex, String colDesc,
@@ -1232,7 +1232,7 @@ public class JTableEx extends JTable implements MouseListener,
 								mm.getMessage("jtableex.null",
 										String.valueOf((i + 1)), colDesc),
 								mm.getMessage("public.note"),
-								JOptionPane.WARNING_MESSAGE); // ڣ{0}е{1}Ϊա
+								JOptionPane.WARNING_MESSAGE); // 第：{0}行的{1}为空。
 				return false;
 			}
 			if (caseRepeat && keys.contains(key)) {
@@ -1245,7 +1245,7 @@ public class JTableEx extends JTable implements MouseListener,
 			if (!StringUtils.isValidString(key)) {
 				nullCount++;
 			}
-			if (caseRepeat && nullCount > 1) { // ΪÿֵҲظ
+			if (caseRepeat && nullCount > 1) { // 为了让空值也不能重复
 				JOptionPane
 						.showMessageDialog(parent,
 								mm.getMessage("jtableex.repeat") + colDesc
@@ -1260,10 +1260,10 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * Ƿ
+	 * 设置列是否可视
 	 * 
-	 * @param colName 
-	 * @param vis     Ƿ
+	 * @param colName 列名
+	 * @param vis     是否可视
 	 */
 	public void setColumnVisible(String colName, boolean vis) {
 		if (vis) {
@@ -1274,7 +1274,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ѡ
+	 * 上移选择行
 	 * 
 	 * @return
 	 */
@@ -1283,10 +1283,10 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ָļ¼
+	 * 上移指定的记录行
 	 * 
-	 * @param row intҪƶкţΪС0ƶǰѡе
-	 * @return intƶк,-1ʾûƶ
+	 * @param row int，要移动的行号，如果为小于0的数字则移动当前选中的行
+	 * @return int，移动后的新行号,返回-1表示没有移动
 	 */
 	public int shiftRowUp(int row) {
 		acceptText();
@@ -1312,7 +1312,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ѡ
+	 * 下移选择行
 	 * 
 	 * @return
 	 */
@@ -1321,9 +1321,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ָ
+	 * 下移指定行
 	 * 
-	 * @param row к
+	 * @param row 行号
 	 * @return
 	 */
 	public int shiftRowDown(int row) {
@@ -1349,9 +1349,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ʾ
+	 * 显示列
 	 * 
-	 * @param columnName 
+	 * @param columnName 列名
 	 */
 	public void showColumn(String columnName) {
 		if (isColumnVisible(columnName)) {
@@ -1365,7 +1365,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ɾѡемɾѡЧ¼
+	 * 删除选中的行集，删除后并且选中有效记录
 	 */
 	public boolean deleteSelectedRows() {
 		acceptText();
@@ -1385,7 +1385,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ɾѡ
+	 * 删除所有选择的行
 	 * 
 	 * @return
 	 */
@@ -1408,9 +1408,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ɾǰѡеļ¼м ǲӰѡем
+	 * 删除当前选中的记录行集 但是不影响选中的行集合
 	 * 
-	 * @return ɾ
+	 * @return 删除的行数
 	 */
 	public int removeCurrentRow() {
 		acceptText();
@@ -1425,9 +1425,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ɾָ
+	 * 删除指定行
 	 * 
-	 * @param row к
+	 * @param row 行号
 	 * @return
 	 */
 	public int removeRow(int row) {
@@ -1449,9 +1449,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ѡָ
+	 * 选中指定行
 	 * 
-	 * @param row к
+	 * @param row 行号
 	 */
 	public void selectRow(int row) {
 		DefaultListSelectionModel selectModel = new DefaultListSelectionModel();
@@ -1468,7 +1468,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * Ķƶ
+	 * 补充的多行移动用
 	 * 
 	 * @param start
 	 * @param end
@@ -1491,7 +1491,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ѡֻ
+	 * 列选择只能是连续的区间
 	 * 
 	 * @param cols
 	 */
@@ -1507,11 +1507,11 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ڱSearchColumnҶvalue
+	 * 在表格的SearchColumn列里面查找对象value
 	 * 
 	 * @param value        Object
 	 * @param searchColumn int
-	 * @return int, ҵö󷵻ضڵк,򷵻-1
+	 * @return int, 找到该对象返回对象所在的行号,否则返回-1
 	 */
 	public int searchValue(Object value, int searchColumn) {
 		Object o;
@@ -1525,7 +1525,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ׷
+	 * 追加行
 	 * 
 	 * @return
 	 */
@@ -1534,9 +1534,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ׷
+	 * 追加行
 	 * 
-	 * @param resetIndex Ƿ
+	 * @param resetIndex 是否重置序号列
 	 * @return
 	 */
 	public int addRow(boolean resetIndex) {
@@ -1544,9 +1544,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ׷
+	 * 追加行
 	 * 
-	 * @param oa ׷ӵ
+	 * @param oa 追加的行数据数组
 	 * @return
 	 */
 	public int addRow(Object[] oa) {
@@ -1554,10 +1554,10 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ׷
+	 * 追加行
 	 * 
-	 * @param oa         ׷ӵ
-	 * @param resetIndex Ƿ
+	 * @param oa         追加的行数据数组
+	 * @param resetIndex 是否重置序号列
 	 * @return
 	 */
 	public int addRow(Object[] oa, boolean resetIndex) {
@@ -1565,10 +1565,10 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 插入行
 	 * 
-	 * @param row     к
-	 * @param rowData 
+	 * @param row     行号
+	 * @param rowData 行数据数组
 	 * @return
 	 */
 	public int insertRow(int row, Object[] rowData) {
@@ -1576,11 +1576,11 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * 
+	 * 插入行
 	 * 
-	 * @param row        к
-	 * @param rowData    
-	 * @param resetIndex Ƿ
+	 * @param row        行号
+	 * @param rowData    行数据数组
+	 * @param resetIndex 是否重置序号列
 	 * @return
 	 */
 	public int insertRow(int row, Object[] rowData, boolean resetIndex) {
@@ -1603,9 +1603,9 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * Ƿ
+	 * 列是否可视
 	 * 
-	 * @param column бʶ
+	 * @param column 列标识符
 	 * @return
 	 */
 	public boolean isColumnVisible(Object column) {
@@ -1621,10 +1621,10 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * й仯
+	 * 行光标变化
 	 * 
-	 * @param oldRow ֮ǰѡ
-	 * @param newRow ѡ
+	 * @param oldRow 之前选择的行
+	 * @param newRow 新选择的行
 	 */
 	private void fireRowfocusChanged(int oldRow, int newRow) {
 		if (!ifFireRowfocusChangedEvent) {
@@ -1642,21 +1642,21 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȡн仯
+	 * 取消行焦点变化
 	 */
 	public void disableRowfocusChanged() {
 		ifFireRowfocusChangedEvent = false;
 	}
 
 	/**
-	 * н仯
+	 * 激活行焦点变化
 	 */
 	public void enableRowfocusChanged() {
 		ifFireRowfocusChangedEvent = true;
 	}
 
 	/**
-	 * ѡб仯
+	 * 选择行变化
 	 */
 	public void valueChanged(ListSelectionEvent e) {
 		int r = getSelectedRow();
@@ -1675,22 +1675,22 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ֮ǰѡ
+	 * 之前选择的行
 	 */
 	private int oldRow = -1;
 
 	/**
-	 * õıɫ
+	 * 不可用的背景色
 	 */
 	private Color disabledBackColor = Color.lightGray;
 
 	/**
-	 * õǰɫ
+	 * 不可用的前景色
 	 */
 	private Color disabledForeColor = Color.black;
 
 	/**
-	 * ýֹеɫ
+	 * 设置禁止列的颜色
 	 * 
 	 * @param c Color
 	 */
@@ -1712,7 +1712,7 @@ public class JTableEx extends JTable implements MouseListener,
 
 	/**
 	 * 
-	 * õĵԪ༭
+	 * 不可用的单元格编辑器
 	 */
 	class DisabledEditor extends DefaultCellEditor {
 		private static final long serialVersionUID = 1L;
@@ -1729,7 +1729,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȡȱʡĵԪ༭
+	 * 取缺省的单元格编辑器
 	 * 
 	 * @param tf
 	 * @param parent
@@ -1740,7 +1740,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ȱʡĵԪ༭
+	 * 缺省的单元格编辑器
 	 *
 	 */
 	class SimpleEditor extends DefaultCellEditor implements KeyListener,
@@ -1802,7 +1802,7 @@ public class JTableEx extends JTable implements MouseListener,
 		 * @param e FocusEvent
 		 */
 		public void focusLost(FocusEvent e) {
-			// ֵֻĶʱܣ򵥻ֱӱ༭ԼӰ쵽뷨
+			// 只有在值改动过时触发接受，否则单击表格不能直接编辑，以及会影响到输入法
 			// if( edited ){
 			// parent.acceptText();
 			// edited = false;
@@ -1827,7 +1827,7 @@ public class JTableEx extends JTable implements MouseListener,
 			if (e != null) {
 				Object src = e.getSource();
 				if (src instanceof JTextField) {
-					// editableTextFieldȻܽյ¼
+					// 不可editable的TextField仍然能接收到按键事件
 					JTextField txt = (JTextField) src;
 					if (!txt.isEditable())
 						return;
@@ -1846,7 +1846,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * м
+	 * 表格列监听器
 	 *
 	 */
 	class TableColListener implements TableColumnModelListener {
@@ -1874,7 +1874,7 @@ public class JTableEx extends JTable implements MouseListener,
 	}
 
 	/**
-	 * ڵı༭¼,ϲı༭״̬
+	 * 表格内的编辑动作将触发该事件,方便上层的编辑状态联动
 	 */
 	public void stateChanged(ChangeEvent e) {
 	}
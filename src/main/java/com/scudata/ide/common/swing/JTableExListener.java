@@ -3,65 +3,65 @@ package com.scudata.ide.common.swing;
 import java.awt.event.MouseEvent;
 
 /**
- * ؼ
+ * 表格控件监听器
  *
  */
 public interface JTableExListener {
 	/**
-	 * Ҽ
+	 * 鼠标右键点击
 	 * 
 	 * @param xpos
-	 *            X
+	 *            X坐标
 	 * @param ypos
-	 *            Y
+	 *            Y坐标
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @param e
-	 *            ¼
+	 *            鼠标事件
 	 */
 	public void rightClicked(int xpos, int ypos, int row, int col, MouseEvent e);
 
 	/**
-	 * ˫
+	 * 鼠标双击
 	 * 
 	 * @param xpos
-	 *            X
+	 *            X坐标
 	 * @param ypos
-	 *            Y
+	 *            Y坐标
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @param e
-	 *            ¼
+	 *            鼠标事件
 	 */
 	public void doubleClicked(int xpos, int ypos, int row, int col, MouseEvent e);
 
 	/**
-	 * 
+	 * 鼠标点击
 	 *
 	 * @param xpos
-	 *            X
+	 *            X坐标
 	 * @param ypos
-	 *            Y
+	 *            Y坐标
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @param e
-	 *            ¼
+	 *            鼠标事件
 	 */
 	public void clicked(int xpos, int ypos, int row, int col, MouseEvent e);
 
 	/**
-	 * н㷢仯
+	 * 行焦点发生变化
 	 * 
 	 * @param oldRow
-	 *            ֮ǰѡ
+	 *            之前选择的行
 	 * @param newRow
-	 *            ѡ
+	 *            新选择的行
 	 */
 	public void rowfocusChanged(int oldRow, int newRow);
 	public void stateChanged(javax.swing.event.ChangeEvent arg0);
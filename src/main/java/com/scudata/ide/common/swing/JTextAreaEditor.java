@@ -18,87 +18,87 @@ import javax.swing.event.ChangeEvent;
 import com.scudata.util.Variant;
 
 /**
- * JTableԪı༭
+ * JTable单元格的文本编辑器
  *
  */
 public class JTextAreaEditor extends DefaultCellEditor implements MouseListener {
 	private static final long serialVersionUID = 1L;
 
-	/** ͨı */
+	/** 普通文本框 */
 	public static final int TYPE_TEXT_SIMPLE = 1;
-	/** ı */
+	/** 多行文本框 */
 	public static final int TYPE_TEXT_WRAP = 2;
-	/** Ȼ༭ */
+	/** 自然数编辑框 */
 	public static final int TYPE_UNSIGNED_INTEGER = 3;
-	/** ༭ */
+	/** 整数编辑框 */
 	public static final int TYPE_SIGNED_INTEGER = 4;
-	/** ޷Ÿ༭ */
+	/** 无符号浮点数编辑框 */
 	public static final int TYPE_UNSIGNED_DOUBLE = 5;
-	/** ༭ */
+	/** 浮点数编辑框 */
 	public static final int TYPE_SIGNED_DOUBLE = 6;
-	/** ֻı */
+	/** 只读文本框 */
 	public static final int TYPE_TEXT_READONLY = 7;
 
 	/**
-	 * ༭
+	 * 编辑类型
 	 */
 	private int editorType;
 	/**
-	 * ؼ
+	 * 滚动面板控件
 	 */
 	private JScrollPane jsp;
 	/**
-	 * ؼ
+	 * 表格控件
 	 */
 	private JTableExListener parent;
 
 	/**
-	 * ͨıؼ
+	 * 普通文本框控件
 	 */
 	private JTextField textSimple = null;
 
 	/**
-	 * ıؼ
+	 * 多行文本框控件
 	 */
 	private JTextPane textWrap = null;
 
 	/**
-	 * SpinnerؼֵĿǰûȡʧȥ㣬Ȼܵǰ༭ֵJTextField 20201230
+	 * Spinner控件中输入的数值，目前没法获取到失去焦点，然后接受当前编辑值，改用JTextField 2020年12月30日
 	 */
 	/**
-	 * Ȼ༭
+	 * 自然数编辑框
 	 */
 	private JTextField uInteger = null;
 	/**
-	 * ༭
+	 * 整数编辑框
 	 */
 	private JTextField sInteger = null;
 	/**
-	 * ༭
+	 * 浮点数编辑框
 	 */
 	private JTextField sNumber = null;
 	/**
-	 * ༭ֵ
+	 * 编辑值
 	 */
 	private Object oldValue = null;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param parent
-	 *            ؼ
+	 *            表格控件
 	 */
 	public JTextAreaEditor(JTableExListener parent) {
 		this(parent, TYPE_TEXT_SIMPLE);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param parent
-	 *            ؼ
+	 *            表格控件
 	 * @param editorType
-	 *            ༭
+	 *            编辑框类型
 	 */
 	public JTextAreaEditor(final JTableExListener parent, int editorType) {
 		super(new JTextField(""));
@@ -110,7 +110,7 @@ public class JTextAreaEditor extends DefaultCellEditor implements MouseListener
 				if (e != null) {
 					Object src = e.getSource();
 					if (src instanceof JTextField) {
-						// editableTextFieldȻܽյ¼
+						// 不可editable的TextField仍然能接收到按键事件
 						JTextField txt = (JTextField) src;
 						if (!txt.isEditable())
 							return;
@@ -167,10 +167,10 @@ public class JTextAreaEditor extends DefaultCellEditor implements MouseListener
 	}
 
 	/**
-	 * ֵ
+	 * 设置值
 	 * 
 	 * @param value
-	 *            ֵ
+	 *            值
 	 * @return
 	 */
 	public Component setValue(Object value) {
@@ -231,7 +231,7 @@ public class JTextAreaEditor extends DefaultCellEditor implements MouseListener
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 取编辑值
 	 */
 	public Object getCellEditorValue() {
 		Object value = null;
@@ -273,7 +273,7 @@ public class JTextAreaEditor extends DefaultCellEditor implements MouseListener
 	}
 
 	/**
-	 * ȡԪ༭ؼ
+	 * 取单元格编辑控件
 	 */
 	public Component getTableCellEditorComponent(JTable table, Object value,
 			boolean isSelected, int row, int column) {
@@ -281,7 +281,7 @@ public class JTextAreaEditor extends DefaultCellEditor implements MouseListener
 	}
 
 	/**
-	 * ¼
+	 * 鼠标点击事件
 	 */
 	public void mouseClicked(MouseEvent e) {
 		JComponent editor = (JComponent) e.getSource();
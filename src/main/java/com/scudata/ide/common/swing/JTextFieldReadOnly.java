@@ -11,60 +11,60 @@ import com.scudata.cellset.datamodel.PgmNormalCell;
 import com.scudata.ide.common.EditListener;
 
 /**
- * ֻı
+ * 只读的文本框
  *
  */
 public class JTextFieldReadOnly extends JTextField {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JTextFieldReadOnly() {
 		this(0);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param columns
-	 *            
+	 *            列数
 	 */
 	public JTextFieldReadOnly(int columns) {
 		this(new String(), columns);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param s
-	 *            ַ
+	 *            字符串
 	 */
 	public JTextFieldReadOnly(String s) {
 		this(s, 0);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param s
-	 *            ַ
+	 *            字符串
 	 * @param columns
-	 *            
+	 *            列数
 	 */
 	public JTextFieldReadOnly(String s, int columns) {
 		this(s, columns, null);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param s
-	 *            ַ
+	 *            字符串
 	 * @param columns
-	 *            
+	 *            列数
 	 * @param el
-	 *            ΪnullʱԱ༭
+	 *            监听器，不为null时可以编辑
 	 */
 	public JTextFieldReadOnly(String s, int columns, final EditListener el) {
 		super(s, columns);
@@ -81,7 +81,7 @@ public class JTextFieldReadOnly extends JTextField {
 					if (e != null) {
 						Object src = e.getSource();
 						if (src instanceof JTextField) {
-							// editableTextFieldȻܽյ¼
+							// 不可editable的TextField仍然能接收到按键事件
 							JTextField txt = (JTextField) src;
 							if (!txt.isEditable())
 								return;
@@ -46,16 +46,16 @@ import com.scudata.ide.spl.GVSpl;
 import com.scudata.ide.spl.control.SplControl;
 
 /**
- * JTextPaneչࡣ
+ * JTextPane的扩展类。
  * 
- * ƥţʾؼ֡
+ * 可以匹配括号，高亮显示关键字。
  */
 public class JTextPaneEx extends JTextPane {
 
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ʽĵ
+	 * 样式文档对象
 	 */
 	private DefaultStyledDocument doc;
 	/**
@@ -63,12 +63,12 @@ public class JTextPaneEx extends JTextPane {
 	 */
 	private boolean matchEnabled = true;
 	/**
-	 * Ƿֹ仯
+	 * 是否阻止变化
 	 */
 	protected boolean preventChanged = false;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JTextPaneEx() {
 		super();
@@ -81,7 +81,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * Ƿƥ
+	 * 设置是否匹配
 	 * 
 	 * @param matchEnabled
 	 */
@@ -90,7 +90,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 */
 	private void init() {
 		setFont(GC.font);
@@ -153,7 +153,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * Ƿֹ仯
+	 * 设置是否阻止变化
 	 * 
 	 * @param preventChanged
 	 */
@@ -162,7 +162,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ĵ
+	 * 文档更新
 	 */
 	protected void docUpdate() {
 		if (preventChanged)
@@ -171,9 +171,9 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ƶ
+	 * 光标移动
 	 * 
-	 * @param caret λ
+	 * @param caret 光标位置
 	 */
 	public void caretChanged(int caret) {
 		if (!isVisible())
@@ -186,7 +186,7 @@ public class JTextPaneEx extends JTextPane {
 		List<CA> total = new ArrayList<CA>();
 		String text = getText();
 		if (text != null && text.length() > 0) {
-			// 
+			// 重置
 			total.add(new CA(0, text.length(), AS_DEFAULT, true));
 		}
 		total.addAll(refCAs);
@@ -196,7 +196,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ȡиʾ
+	 * 取所有高亮显示的配置
 	 * 
 	 * @param caret
 	 * @return
@@ -214,13 +214,13 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ƶ
+	 * 光标移动
 	 */
 	protected void caretChanged() {
 	}
 
 	/**
-	 * ƥؼ
+	 * 匹配关键字
 	 * 
 	 * @param caret
 	 * @return
@@ -248,7 +248,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ȡƥ
+	 * 取匹配的括号
 	 * 
 	 * @param caret
 	 * @return
@@ -264,7 +264,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ƥ
+	 * 匹配括号
 	 * 
 	 * @param caret
 	 * @return
@@ -298,7 +298,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * 
+	 * 找括号
 	 * 
 	 * @param caret
 	 * @return
@@ -323,7 +323,7 @@ public class JTextPaneEx extends JTextPane {
 						inBrackets--;
 						if (inBrackets == 0) {
 							return i;
-						} else if (inBrackets < 0) { // Ųƥ
+						} else if (inBrackets < 0) { // 括号不匹配
 							return -1;
 						}
 					}
@@ -345,7 +345,7 @@ public class JTextPaneEx extends JTextPane {
 						inBrackets--;
 						if (inBrackets == 0) {
 							return i;
-						} else if (inBrackets < 0) { // Ųƥ
+						} else if (inBrackets < 0) { // 括号不匹配
 							return -1;
 						}
 					}
@@ -356,7 +356,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ַǷϷ
+	 * 字符是否合法
 	 * 
 	 * @param index
 	 * @return
@@ -366,7 +366,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ַǷϷ
+	 * 字符串是否合法
 	 * 
 	 * @param index
 	 * @param len
@@ -380,7 +380,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ʼø
+	 * 初始化引用格
 	 * 
 	 * @param isUpdate
 	 */
@@ -403,7 +403,7 @@ public class JTextPaneEx extends JTextPane {
 			}
 			String text = getText();
 			if (text != null && text.length() > 0) {
-				// 
+				// 重置
 				refCAs.add(new CA(0, text.length(), AS_DEFAULT, true));
 			}
 			if (cellSet != null && text != null) {
@@ -464,7 +464,7 @@ public class JTextPaneEx extends JTextPane {
 			total.addAll(getCaretCAs(getCaretPosition()));
 			resetCAs(total);
 			if (control != null) {
-				// Ƚһ£ûͲˢ
+				// 比较一下，如果格子没变就不刷新了
 				boolean isSame = false;
 				if (lastRefCells != null && refCells != null)
 					if (lastRefCells.size() == refCells.size()) {
@@ -492,7 +492,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ƥб
+	 * 重置匹配列表
 	 * 
 	 * @param cas
 	 */
@@ -509,7 +509,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ƥб
+	 * 重置匹配设置列表
 	 * 
 	 * @param cas
 	 */
@@ -533,7 +533,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ȡøб
+	 * 取引用格列表
 	 * 
 	 * @return
 	 */
@@ -542,10 +542,10 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ȡøɫ
+	 * 取引用格颜色
 	 * 
-	 * @param row к
-	 * @param col к
+	 * @param row 行号
+	 * @param col 列号
 	 * @return
 	 */
 	public Color getRefCellColor(int row, int col) {
@@ -563,7 +563,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ؼ
+	 * 定义关键字
 	 */
 	private static final String KEY_IF = "if";
 	private static final String KEY_ELSE = "else";
@@ -585,7 +585,7 @@ public class JTextPaneEx extends JTextPane {
 	private static final String KEY_CHANNEL = "cursor";
 
 	/**
-	 * ؼּ
+	 * 关键字集合
 	 */
 	private static List<String> keyWords = new ArrayList<String>();
 	static {
@@ -607,7 +607,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ɫѭʹãٴ0ʼ
+	 * 多个颜色循环使用，超出了再从0开始
 	 */
 	private static final Color REF_COLOR1 = Color.BLUE;
 	private static final Color REF_COLOR2 = Color.RED;
@@ -623,33 +623,33 @@ public class JTextPaneEx extends JTextPane {
 	private static final Color COLOR_BRACKET = Color.RED;
 	private static final Color COLOR_KEY = Color.BLUE;
 
-	/** ȱʡ */
+	/** 缺省 */
 	private static final MutableAttributeSet AS_DEFAULT = new SimpleAttributeSet();
-	/** ƥ */
+	/** 匹配括号 */
 	private static final MutableAttributeSet AS_BRACKET = new SimpleAttributeSet();
-	/** ؼ */
+	/** 关键字 */
 	private static final MutableAttributeSet AS_KEY = new SimpleAttributeSet();
 
 	/**
-	 * õԪɫļ
+	 * 引用单元格颜色的集合
 	 */
 	private MutableAttributeSet[] as = new MutableAttributeSet[REF_COLORS.length];
 
 	/**
-	 * øƥ
+	 * 所有引用格的匹配设置
 	 */
 	private List<CA> refCAs = new ArrayList<CA>();
 	/**
-	 * øб
+	 * 引用格列表
 	 */
 	private List<INormalCell> refCells = new ArrayList<INormalCell>();
 	/**
-	 * 
+	 * 搜索配置
 	 */
 	private final int SEARCH_FLAG = Sentence.IGNORE_PARS + Sentence.ONLY_PHRASE;
 
 	/**
-	 * ༭
+	 * 编辑工具
 	 *
 	 */
 	private class WarpEditorKit extends StyledEditorKit {
@@ -662,7 +662,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * й
+	 * 列工厂
 	 */
 	private class WarpColumnFactory implements ViewFactory {
 
@@ -686,7 +686,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ǩͼ
+	 * 标签视图
 	 *
 	 */
 	private class WarpLabelView extends LabelView {
@@ -708,7 +708,7 @@ public class JTextPaneEx extends JTextPane {
 	}
 
 	/**
-	 * ƥ䵽ĸʾ
+	 * 匹配到的高亮显示的配置
 	 *
 	 */
 	class CA {
@@ -33,7 +33,7 @@ public class MemoryMonitor extends JPanel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 	/**
@@ -42,12 +42,12 @@ public class MemoryMonitor extends JPanel {
 	private static JCheckBox dateStampCB = new JCheckBox(IdeCommonMessage.get()
 			.getMessage("memorymonitor.outputdate"));
 	/**
-	 * ʾ
+	 * 显示面板
 	 */
 	public Surface surf;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public MemoryMonitor() {
 		setLayout(new BorderLayout());
@@ -85,7 +85,7 @@ public class MemoryMonitor extends JPanel {
 	}
 
 	/**
-	 * ʾ
+	 * 显示面板
 	 *
 	 */
 	public class Surface extends JPanel implements Runnable {
@@ -110,7 +110,7 @@ public class MemoryMonitor extends JPanel {
 		private String usedStr;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 */
 		public Surface() {
 			setBackground(Color.black);
@@ -126,28 +126,28 @@ public class MemoryMonitor extends JPanel {
 		}
 
 		/**
-		 * ȡСߴ
+		 * 取最小尺寸
 		 */
 		public Dimension getMinimumSize() {
 			return getPreferredSize();
 		}
 
 		/**
-		 * ȡߴ
+		 * 取最大尺寸
 		 */
 		public Dimension getMaximumSize() {
 			return getPreferredSize();
 		}
 
 		/**
-		 * ȡߴ
+		 * 取尺寸
 		 */
 		public Dimension getPreferredSize() {
 			return new Dimension(135, 80);
 		}
 
 		/**
-		 * 
+		 * 绘制
 		 */
 		public void paint(Graphics g) {
 			if (big == null) {
@@ -268,7 +268,7 @@ public class MemoryMonitor extends JPanel {
 		}
 
 		/**
-		 * ߳
+		 * 启动线程
 		 */
 		public void start() {
 			thread = new Thread(this);
@@ -278,7 +278,7 @@ public class MemoryMonitor extends JPanel {
 		}
 
 		/**
-		 * ߳
+		 * 结束线程
 		 */
 		public synchronized void stop() {
 			thread = null;
@@ -286,7 +286,7 @@ public class MemoryMonitor extends JPanel {
 		}
 
 		/**
-		 * ִ߳
+		 * 执行线程
 		 */
 		public void run() {
 
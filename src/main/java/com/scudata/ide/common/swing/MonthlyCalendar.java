@@ -136,12 +136,12 @@ public class MonthlyCalendar extends JComponent implements MouseListener,
 	}
 
 	/**
-	 * Դ
+	 * 加载语言资源
 	 */
 	private void loadLanguageString() {
 		DEFAULT_HEADER_SYMBOLS = new Section(IdeCommonMessage.get().getMessage(
-				"monthlycalendar.weekdays")).toStringArray(); // , һ, , , ,
-		// , 
+				"monthlycalendar.weekdays")).toStringArray(); // 日, 一, 二, 三, 四,
+		// 五, 六
 		DEFAULT_FONT = new java.awt.Font("Dialog", 0, 12);
 	}
 
@@ -18,7 +18,7 @@ import com.scudata.common.StringUtils;
 import com.scudata.ide.common.GM;
 
 /**
- * Ļ
+ * 工具条的基类
  *
  */
 public class ToolbarGradient extends JToolBar {
@@ -26,24 +26,24 @@ public class ToolbarGradient extends JToolBar {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ToolbarGradient() {
 		super();
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param name
-	 *            
+	 *            工具条的名称
 	 */
 	public ToolbarGradient(String name) {
 		super(name);
 	}
 
 	/**
-	 * ˢ¿ؼ
+	 * 刷新控件
 	 */
 	public void paintComponent(Graphics g) {
 		super.paintComponent(g);
@@ -63,7 +63,7 @@ public class ToolbarGradient extends JToolBar {
 	}
 
 	/**
-	 * ť
+	 * 创建按钮
 	 * 
 	 * @param cmdId
 	 * @param menuId
@@ -38,56 +38,56 @@ public class TristateCheckBox extends JCheckBox {
 		}
 	}
 
-	/** δѡ״̬ */
+	/** 未选择状态 */
 	public static final State NOT_SELECTED = new State();
-	/** ѡ״̬ */
+	/** 选择状态 */
 	public static final State SELECTED = new State();
-	/** ̬ */
+	/** 第三态 */
 	public static final State DONT_CARE = new State();
 
 	/**
-	 * ģ
+	 * 模型
 	 */
 	private final TristateDecorator model;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public TristateCheckBox() {
 		this(null);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param text
-	 *            ʾı
+	 *            显示文本
 	 */
 	public TristateCheckBox(String text) {
 		this(text, DONT_CARE);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param text
-	 *            ʾı
+	 *            显示文本
 	 * @param initial
-	 *            ʼ״̬
+	 *            初始化状态
 	 */
 	public TristateCheckBox(String text, State initial) {
 		this(text, null, initial);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param text
-	 *            ʾı
+	 *            显示文本
 	 * @param icon
-	 *            ͼ
+	 *            图标
 	 * @param initial
-	 *            ʼ״̬
+	 *            初始化状态
 	 */
 	public TristateCheckBox(String text, Icon icon, State initial) {
 		super(text, icon);
@@ -137,7 +137,7 @@ public class TristateCheckBox extends JCheckBox {
 	}
 
 	/**
-	 * Ƿѡ
+	 * 设置是否选中
 	 */
 	public void setSelected(boolean b) {
 		if (b) {
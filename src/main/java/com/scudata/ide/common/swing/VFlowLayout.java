@@ -7,91 +7,91 @@ import java.awt.FlowLayout;
 import java.awt.Insets;
 
 /**
- * VFlowLayout̳FlowLayoutڴֱпؼ
+ * VFlowLayout继承FlowLayout，用于垂直排列控件。
  */
 public class VFlowLayout extends FlowLayout implements java.io.Serializable {
 
 	private static final long serialVersionUID = 1L;
 
-	/**  */
+	/** 居上 */
 	public static final int TOP = 0;
-	/**  */
+	/** 居中 */
 	public static final int MIDDLE = 1;
-	/**  */
+	/** 居下 */
 	public static final int BOTTOM = 2;
 	/**
-	 * 
+	 * 横向间隔
 	 */
 	private int hgap;
 	/**
-	 * 
+	 * 纵向间隔
 	 */
 	private int vgap;
 	/**
-	 * Ƿ
+	 * 是否横向填充
 	 */
 	private boolean hfill;
 	/**
-	 * Ƿ
+	 * 是否纵向填充
 	 */
 	private boolean vfill;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public VFlowLayout() {
 		this(TOP, 5, 5, true, false);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param hfill
-	 *            Ƿ
+	 *            是否横向填充
 	 * @param vfill
-	 *            Ƿ
+	 *            是否纵向填充
 	 */
 	public VFlowLayout(boolean hfill, boolean vfill) {
 		this(TOP, 5, 5, hfill, vfill);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param align
-	 *            ˮƽ
+	 *            水平对齐
 	 */
 	public VFlowLayout(int align) {
 		this(align, 5, 5, true, false);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param align
-	 *            ˮƽ
+	 *            水平对齐
 	 * @param hfill
-	 *            Ƿ
+	 *            是否横向填充
 	 * @param vfill
-	 *            Ƿ
+	 *            是否纵向填充
 	 */
 	public VFlowLayout(int align, boolean hfill, boolean vfill) {
 		this(align, 5, 5, hfill, vfill);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param align
-	 *            ˮƽ
+	 *            水平对齐
 	 * @param hgap
-	 *            
+	 *            横向间隔
 	 * @param vgap
-	 *            
+	 *            纵向间隔
 	 * @param hfill
-	 *            Ƿ
+	 *            是否横向填充
 	 * @param vfill
-	 *            Ƿ
+	 *            是否纵向填充
 	 */
 	public VFlowLayout(int align, int hgap, int vgap, boolean hfill,
 			boolean vfill) {
@@ -103,14 +103,14 @@ public class VFlowLayout extends FlowLayout implements java.io.Serializable {
 	}
 
 	/**
-	 * ȡ
+	 * 取横向间隔
 	 */
 	public int getHgap() {
 		return hgap;
 	}
 
 	/**
-	 * ú
+	 * 设置横向间隔
 	 */
 	public void setHgap(int hgap) {
 		super.setHgap(hgap);
@@ -118,14 +118,14 @@ public class VFlowLayout extends FlowLayout implements java.io.Serializable {
 	}
 
 	/**
-	 * ȡ
+	 * 取纵向间隔
 	 */
 	public int getVgap() {
 		return vgap;
 	}
 
 	/**
-	 * 
+	 * 设置纵向间隔
 	 */
 	public void setVgap(int vgap) {
 		super.setVgap(vgap);
@@ -166,7 +166,7 @@ public class VFlowLayout extends FlowLayout implements java.io.Serializable {
 	}
 
 	/**
-	 * СĳߴС
+	 * 最小的尺寸大小
 	 */
 	public Dimension minimumLayoutSize(Container target) {
 		synchronized (target.getTreeLock()) {
@@ -192,7 +192,7 @@ public class VFlowLayout extends FlowLayout implements java.io.Serializable {
 	}
 
 	/**
-	 * Ƿ
+	 * 设置是否纵向填充
 	 * 
 	 * @param vfill
 	 */
@@ -201,7 +201,7 @@ public class VFlowLayout extends FlowLayout implements java.io.Serializable {
 	}
 
 	/**
-	 * ȡǷ
+	 * 取是否纵向填充
 	 * 
 	 * @return
 	 */
@@ -210,7 +210,7 @@ public class VFlowLayout extends FlowLayout implements java.io.Serializable {
 	}
 
 	/**
-	 * Ƿ
+	 * 设置是否横向填充
 	 * 
 	 * @param hfill
 	 */
@@ -219,7 +219,7 @@ public class VFlowLayout extends FlowLayout implements java.io.Serializable {
 	}
 
 	/**
-	 * ȡǷ
+	 * 取是否横向填充
 	 * 
 	 * @return
 	 */
@@ -228,7 +228,7 @@ public class VFlowLayout extends FlowLayout implements java.io.Serializable {
 	}
 
 	/**
-	 * ƶ
+	 * 移动
 	 * 
 	 * @param target
 	 * @param x
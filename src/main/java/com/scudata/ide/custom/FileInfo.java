@@ -133,7 +133,7 @@ public class FileInfo implements Externalizable {
 	}
 
 	/**
-	 * ȡûĿ¼ȨޣֻĿ¼Чλ0-ɶλ1-дλ2-ɾ
+	 * 获取用户的目录权限，只对目录有效，位0-可读，位1-可写，位2-可删
 	 * 
 	 * @return
 	 */
@@ -16,67 +16,67 @@ import com.scudata.ide.spl.control.ControlUtils;
 import com.scudata.ide.spl.control.SplControl;
 
 /**
- * ԪԭӲ
+ * 单元格的原子操作
  *
  */
 public class AtomicCell implements IAtomicCmd {
-	/** Ԫֵ */
+	/** 单元格值 */
 	public static final byte CELL_VALUE = 0;
-	/** Ԫʽ */
+	/** 单元格表达式 */
 	public static final byte CELL_EXP = 1;
-	/** Ԫʾ */
+	/** 单元格提示 */
 	public static final byte CELL_TIPS = 2;
-	/** ETL ༭ */
+	/** ETL 函数编辑对象 */
 	public static final byte CELL_FUNC_OBJECT = 3;
 
 	/**
-	 * п
+	 * 列宽
 	 */
 	public static final byte COL_WIDTH = 100;
 	/**
-	 * и
+	 * 行高
 	 */
 	public static final byte ROW_HEIGHT = 101;
 	/**
-	 * п
+	 * 列可视
 	 */
 	public static final byte COL_VISIBLE = 103;
 	/**
-	 * п
+	 * 行可视
 	 */
 	public static final byte ROW_VISIBLE = 104;
 
 	/**
-	 * Ӷ
+	 * 格子对象
 	 */
 	private Object cell;
 	/**
-	 * 
+	 * 属性类型
 	 */
 	private byte property;
 	/**
-	 * ֵ
+	 * 值
 	 */
 	private Object value;
 	/**
-	 * ؼ
+	 * 网格控件
 	 */
 	private SplControl control;
 	/**
-	 * ѡеб
+	 * 选中的区域列表
 	 */
 	private Vector<Object> selectedAreas;
 
 	/**
-	 * к
+	 * 行号
 	 */
 	private int row = 0;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param control ؼ
-	 * @param cell    Ԫ
+	 * @param control 网格控件
+	 * @param cell    单元格
 	 */
 	public AtomicCell(SplControl control, Object cell) {
 		this.control = control;
@@ -86,10 +86,10 @@ public class AtomicCell implements IAtomicCmd {
 	}
 
 	/**
-	 * 캯òʱ
+	 * 构造函数。仅用于设置插入的行属性时
 	 * 
-	 * @param control ؼ
-	 * @param row     к
+	 * @param control 网格控件
+	 * @param row     行号
 	 */
 	public AtomicCell(SplControl control, int row) {
 		this.control = control;
@@ -99,14 +99,14 @@ public class AtomicCell implements IAtomicCmd {
 	}
 
 	/**
-	 * תַ
+	 * 转字符串
 	 */
 	public String toString() {
 		return "cell:" + cell + "#key:" + property + "#val:" + value;
 	}
 
 	/**
-	 * 
+	 * 设置属性类型
 	 * 
 	 * @param property
 	 */
@@ -115,7 +115,7 @@ public class AtomicCell implements IAtomicCmd {
 	}
 
 	/**
-	 * ֵ
+	 * 设置值
 	 * 
 	 * @param value
 	 */
@@ -129,7 +129,7 @@ public class AtomicCell implements IAtomicCmd {
 	}
 
 	/**
-	 * ¡
+	 * 克隆
 	 */
 	public Object clone() {
 		AtomicCell an = new AtomicCell(control, cell);
@@ -139,11 +139,11 @@ public class AtomicCell implements IAtomicCmd {
 	}
 
 	/**
-	 * ø
+	 * 设置格子属性
 	 * 
-	 * @param cell     
-	 * @param property 
-	 * @param newVal   ֵ
+	 * @param cell     格子
+	 * @param property 属性类型
+	 * @param newVal   值
 	 */
 	public static void setCellProperty(Object cell, byte property, Object newVal) {
 		NormalCell nc = null;
@@ -153,7 +153,7 @@ public class AtomicCell implements IAtomicCmd {
 		}
 		switch (property) {
 		case CELL_VALUE:
-			if (newVal == null) { // 
+			if (newVal == null) { // 常数格不清空
 				nc.reset();
 			} else {
 				nc.setValue(GM.getOptionTrimChar0Value(newVal));
@@ -194,10 +194,10 @@ public class AtomicCell implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡ
+	 * 取格子属性
 	 * 
-	 * @param cell     
-	 * @param property 
+	 * @param cell     格子
+	 * @param property 属性类型
 	 * @return
 	 */
 	public static Object getCellProperty(Object cell, byte property) {
@@ -234,7 +234,7 @@ public class AtomicCell implements IAtomicCmd {
 	}
 
 	/**
-	 * ֵ
+	 * 设置值
 	 * 
 	 * @param undoAn
 	 * @param newVal
@@ -253,7 +253,7 @@ public class AtomicCell implements IAtomicCmd {
 	}
 
 	/**
-	 * ִ
+	 * 执行
 	 */
 	public IAtomicCmd execute() {
 		if (cell == null && row > 0) {
@@ -30,44 +30,44 @@ import com.scudata.ide.spl.control.ControlUtils;
 import com.scudata.ide.spl.control.SplControl;
 
 /**
- * ԭӲ
+ * 网格原子操作
  *
  */
 public class AtomicSpl implements IAtomicCmd {
 
-	/**  */
+	/** 插入行 */
 	public static final byte INSERT_ROW = 1;
-	/**  */
+	/** 插入列 */
 	public static final byte INSERT_COL = 2;
-	/** ɾ */
+	/** 删除行 */
 	public static final byte REMOVE_ROW = 3;
-	/** ɾ */
+	/** 删除列 */
 	public static final byte REMOVE_COL = 4;
-	/**  */
+	/** 增加行 */
 	public static final byte ADD_ROW = 5;
-	/**  */
+	/** 增加列 */
 	public static final byte ADD_COL = 6;
-	/** ò */
+	/** 设置参数 */
 	public static final byte SET_PARAM = 7;
-	/**  */
+	/** 设置密码 */
 	public static final byte SET_PASSWORD = 8;
-	/** ó */
+	/** 设置常量 */
 	public static final byte SET_CONST = 9;
-	/** ƶ */
+	/** 移动区域 */
 	public static final byte MOVE_RECT = 10;
-	/** UNDOƶ */
+	/** UNDO移动区域 */
 	public static final byte UNDO_MOVE_RECT = 11;
-	/**  */
+	/** 设置区域格子 */
 	public static final byte SET_RECTCELLS = 12;
-	/** ճ */
+	/** 粘贴 */
 	public static final byte PASTE_SELECTION = 13;
-	/** ճ */
+	/** 粘贴串 */
 	public static final byte PASTE_STRINGSELECTION = 14;
-	/** ƶ */
+	/** 移动复制 */
 	public static final byte MOVE_COPY = 15;
 
 	/**
-	 * ļ
+	 * 参数的键
 	 */
 	public static final String COLS = "COLS";
 	public static final String ISDESC = "ISDESC";
@@ -83,30 +83,30 @@ public class AtomicSpl implements IAtomicCmd {
 	public static final String MOVE_TYPE = "MOVE_TYPE";
 
 	/**
-	 * ؼ
+	 * 网格控件
 	 */
 	private SplControl control;
 	/**
-	 * 
+	 * 类型
 	 */
 	private byte type;
 	/**
-	 * 
+	 * 格子区域
 	 */
 	public CellRect rect;
 	/**
-	 * ֵ
+	 * 值
 	 */
 	private Object value;
 	/**
-	 * ѡ
+	 * 选择区域
 	 */
 	private Vector<Object> selectedAreas;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param control ؼ
+	 * @param control 网格控件
 	 */
 	public AtomicSpl(SplControl control) {
 		this.control = control;
@@ -118,7 +118,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * 
+	 * 设置类型
 	 * 
 	 * @param type
 	 */
@@ -127,7 +127,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡ
+	 * 取类型
 	 * 
 	 * @return
 	 */
@@ -136,7 +136,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * 
+	 * 设置区域
 	 * 
 	 * @param cr
 	 */
@@ -145,7 +145,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ֵ
+	 * 设置值
 	 * 
 	 * @param value
 	 */
@@ -154,7 +154,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡֵ
+	 * 取值
 	 * 
 	 * @return
 	 */
@@ -163,7 +163,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ѡ
+	 * 设置选择区域
 	 * 
 	 * @param areas
 	 */
@@ -172,7 +172,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ¡
+	 * 克隆
 	 */
 	public Object clone() {
 		AtomicSpl cmd = new AtomicSpl(control);
@@ -183,7 +183,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ִ
+	 * 执行
 	 */
 	public IAtomicCmd execute() {
 		AtomicSpl reverseCmd = (AtomicSpl) this.clone();
@@ -197,10 +197,10 @@ public class AtomicSpl implements IAtomicCmd {
 			case INSERT_ROW:
 				reverseCmd.setType(REMOVE_ROW);
 				oldValue = null;
-				// в
+				// 隐藏行不插入
 				int rCount = 0;
 				if (value != null && value instanceof Vector) {
-					// undoҪһԭʼиǷ
+					// 如果是undo，要找一下原始的行格是否可视
 					Vector headCells = (Vector) ((Vector) value).get(0);
 					for (int i = 0; i < headCells.size(); i++) {
 						RowCell rc = (RowCell) headCells.get(i);
@@ -226,11 +226,11 @@ public class AtomicSpl implements IAtomicCmd {
 				}
 
 				if (value != null) {
-					// ûvalueΪArrayList
+					// 用户插入的value为ArrayList类型
 					if (value instanceof ArrayList) {
 						setRowCells(rect, (ArrayList) value);
 					} else {
-						// undoɵĲvalueΪVectorӼ
+						// undo生成的插入value为Vector格子集合
 						setHeaderRectCells(rect, (Vector) value, true);
 					}
 				}
@@ -245,11 +245,11 @@ public class AtomicSpl implements IAtomicCmd {
 
 				control.addRow(rect.getRowCount());
 				if (value != null) {
-					// ûvalueΪArrayList ͣ
+					// 用户插入的value为ArrayList 类型，
 					if (value instanceof ArrayList) {
 						setRowCells(rect, (ArrayList) value);
 					} else {
-						// undoɵĲvalueΪVectorӼ
+						// undo生成的插入value为Vector格子集合
 						setHeaderRectCells(rect, (Vector) value, true);
 					}
 				}
@@ -257,10 +257,10 @@ public class AtomicSpl implements IAtomicCmd {
 			case INSERT_COL:
 				reverseCmd.setType(REMOVE_COL);
 				oldValue = null;
-				// в
+				// 隐藏列不插入
 				int cCols = 0;
 				if (value != null && value instanceof Vector) {
-					// undoҪһԭʼиǷ
+					// 如果是undo，要找一下原始的行格是否可视
 					Vector headCells = (Vector) ((Vector) value).get(0);
 					for (int i = 0; i < headCells.size(); i++) {
 						ColCell cc = (ColCell) headCells.get(i);
@@ -285,11 +285,11 @@ public class AtomicSpl implements IAtomicCmd {
 				}
 
 				if (value != null) {
-					// ûvalueΪArrayList ͣ
+					// 用户插入的value为ArrayList 类型，
 					if (value instanceof ArrayList) {
 						setColCells(rect, (ArrayList) value);
 					} else {
-						// undoɵĲvalueΪVectorӼ
+						// undo生成的插入value为Vector格子集合
 						setHeaderRectCells(rect, (Vector) value, false);
 					}
 				}
@@ -303,11 +303,11 @@ public class AtomicSpl implements IAtomicCmd {
 				reverseCmd.setRect(rect);
 				control.addColumn(rect.getColCount());
 				if (value != null) {
-					// ûvalueΪArrayList ͣ
+					// 用户插入的value为ArrayList 类型，
 					if (value instanceof ArrayList) {
 						setColCells(rect, (ArrayList) value);
 					} else {
-						// undoɵĲvalueΪVectorӼ
+						// undo生成的插入value为Vector格子集合
 						setHeaderRectCells(rect, (Vector) value, false);
 					}
 				}
@@ -319,7 +319,7 @@ public class AtomicSpl implements IAtomicCmd {
 
 				ArrayList<NormalCell> adjustCells = new ArrayList<NormalCell>();
 
-				// вɾ
+				// 隐藏行不删除
 				int rows = 0;
 				for (int r = rect.getEndRow(); r >= rect.getBeginRow(); r--) {
 					if (!csp.isRowVisible(r)) {
@@ -351,7 +351,7 @@ public class AtomicSpl implements IAtomicCmd {
 				reverseCmd.setType(INSERT_COL);
 				adjustCells = new ArrayList<NormalCell>();
 
-				// вɾ
+				// 隐藏列不删除
 				int cCount = 0;
 				for (int c = rect.getEndCol(); c >= rect.getBeginCol(); c--) {
 					if (!csp.isColVisible(c)) {
@@ -398,7 +398,7 @@ public class AtomicSpl implements IAtomicCmd {
 					}
 					break;
 				}
-				// ׸CellSelection
+				// 有首格的是CellSelection类型
 				CellSelection cs = (CellSelection) value;
 				Matrix oldMatrix = getMatrixCells(control.cellSet, cs.rect);
 				rect = cs.rect;
@@ -463,7 +463,7 @@ public class AtomicSpl implements IAtomicCmd {
 				break;
 			case PASTE_SELECTION: {
 				/*
-				 * ճʱ㷨ƣ ʱճõıʽ
+				 * 粘贴时算法，纯复制，不调整 剪切时的粘贴，调整别人引用的表达式
 				 */
 				Area area = control.getSelectedArea(0);
 				if (area == null) {
@@ -473,12 +473,12 @@ public class AtomicSpl implements IAtomicCmd {
 				CellSelection cs = (CellSelection) value;
 				if (area.getEndRow() == area.getBeginRow()
 						&& area.getBeginCol() == area.getEndCol()) {
-					// ֻѡһӵճȫ
+					// 只选择一个格子的情况，粘贴全部
 					area = new Area(rect.getBeginRow(), rect.getBeginCol(),
 							rect.getBeginRow() + rect.getRowCount() - 1,
 							(int) (rect.getBeginCol() + rect.getColCount() - 1));
 				} else if (GVSpl.splEditor.selectState == cs.selectState) {
-					// ѡһлһУԴҲǶӦѡеҲճȫ
+					// 选择一行或者一列，而且源区域也是对应的选择行列的情况，也粘贴全部
 					if ((GVSpl.splEditor.selectState == GCSpl.SELECT_STATE_ROW && GVSpl.splEditor.selectedRows
 							.size() == 1)
 							|| (GVSpl.splEditor.selectState == GCSpl.SELECT_STATE_COL && GVSpl.splEditor.selectedCols
@@ -494,7 +494,7 @@ public class AtomicSpl implements IAtomicCmd {
 
 				NormalCell nc;
 				CellSet cellSet = control.cellSet;
-				int rc = 0, cc = 0; // Ҫų
+				int rc = 0, cc = 0; // 有隐藏行需要排除
 				for (int r = area.getBeginRow(); r <= area.getEndRow(); r++) {
 					if (csp.isRowVisible(r)) {
 						rc++;
@@ -533,13 +533,13 @@ public class AtomicSpl implements IAtomicCmd {
 							cellSet.setCell(row, col, null);
 							continue;
 						}
-						ncClone = (NormalCell) nc.deepClone(); // ¡,¸Ӹһ
+						ncClone = (NormalCell) nc.deepClone(); // 必须克隆,否则新格子跟本格是一个对象
 						NormalCell targetCell = (NormalCell) cellSet.getCell(
 								row, col);
 						if (cs.isAdjustSelf()) {
 							control.cellSet.adjustCell(cs.srcCellSet, ncClone,
 									row - nc.getRow(),
-									(int) (col - nc.getCol())); // ʱԼ
+									(int) (col - nc.getCol())); // 复制时调整自己
 						}
 						String exp;
 						if (cs.isCopyValue()) {
@@ -568,7 +568,7 @@ public class AtomicSpl implements IAtomicCmd {
 				// }
 				// }
 
-				// ׸
+				// 复制首格
 				CellSelection oldCs = new CellSelection(oldMatrix, realRect,
 						cs.srcCellSet, cs.isCopyValue());
 				ArrayList oldHeaders = new ArrayList();
@@ -619,8 +619,8 @@ public class AtomicSpl implements IAtomicCmd {
 				rect = realRect;
 				oldValue = oldCs;
 
-				if (cs.isCutStatus()) { // ʱ
-					// ĿϣһԱʽ
+				if (cs.isCutStatus()) { // 剪切时调整别人
+					// 目标格子设置完毕，重新整理一遍相对表达式
 					for (int r = 0; r < cs.rect.getRowCount(); r++) {
 						for (int c = 0; c < cs.rect.getColCount(); c++) {
 							CellLocation src = new CellLocation(
@@ -731,10 +731,10 @@ public class AtomicSpl implements IAtomicCmd {
 							control.cellSet,
 							new CellRect(tarRow, 1, 1, control.cellSet
 									.getColCount()));
-					// Ŀи߶
+					// 目标行高度
 					float tarHeight = control.cellSet.getRowCell(tarRow)
 							.getHeight();
-					// Դи
+					// 源区域行高
 					float[] rowHeights = new float[srcData.getRowSize()];
 					int rowIndex = 0;
 					for (int r = rect.getBeginRow(); r <= rect.getEndRow(); r++) {
@@ -745,7 +745,7 @@ public class AtomicSpl implements IAtomicCmd {
 								.getHeight();
 						rowIndex++;
 					}
-					// ѡи
+					// 选中格子上移
 					rowIndex = 0;
 					for (int r = tarRow; r < rect.getEndRow(); r++) {
 						if (!parser.isRowVisible(r))
@@ -762,7 +762,7 @@ public class AtomicSpl implements IAtomicCmd {
 								rowHeights[rowIndex]);
 						rowIndex++;
 					}
-					// Ŀ
+					// 目标区域下移
 					int colIndex = 0;
 					for (int c = 1; c <= control.cellSet.getColCount(); c++) {
 						if (!parser.isColVisible(c))
@@ -774,7 +774,7 @@ public class AtomicSpl implements IAtomicCmd {
 					control.cellSet.getRowCell(rect.getEndRow()).setHeight(
 							tarHeight);
 
-					// ϣһԱʽ
+					// 格子设置完毕，重新整理一遍相对表达式
 					for (int r = rect.getBeginRow(); r <= rect.getEndRow(); r++) {
 						if (!parser.isRowVisible(r))
 							continue;
@@ -808,10 +808,10 @@ public class AtomicSpl implements IAtomicCmd {
 							new CellRect(tarRow, 1, 1, this.control.cellSet
 									.getColCount()));
 
-					// Ŀи߶
+					// 目标行高度
 					float tarHeight = control.cellSet.getRowCell(tarRow)
 							.getHeight();
-					// Դи
+					// 源区域行高
 					float[] rowHeights = new float[srcData.getRowSize()];
 					int rowIndex = 0;
 					for (int r = rect.getBeginRow(); r <= rect.getEndRow(); r++) {
@@ -1023,7 +1023,7 @@ public class AtomicSpl implements IAtomicCmd {
 				int dr = rect.getBeginRow() - cs.rect.getBeginRow();
 				int dc = (int) (rect.getBeginCol() - cs.rect.getBeginCol());
 
-				// ȻԭԴӣصʱȻԭ
+				// 先还原源格子，两区域重叠时，必需先还原
 				for (int r = 0; r < cs.rect.getRowCount(); r++) {
 					for (int c = 0; c < cs.rect.getColCount(); c++) {
 						if (cs.oldData != null) {
@@ -1036,7 +1036,7 @@ public class AtomicSpl implements IAtomicCmd {
 					}
 				}
 
-				// Ŀ
+				// 设置目标格子
 				for (int r = 0; r < rect.getRowCount(); r++) {
 					for (int c = 0; c < rect.getColCount(); c++) {
 						nc = (NormalCell) fromData.get(r, c);
@@ -1051,7 +1051,7 @@ public class AtomicSpl implements IAtomicCmd {
 					}
 				}
 
-				// ĿϣһԱʽ
+				// 目标格子设置完毕，重新整理一遍相对表达式
 				if (dr >= 0) {
 					if (dc >= 0) {
 						for (int r = rect.getRowCount() - 1; r >= 0; r--) {
@@ -1145,7 +1145,7 @@ public class AtomicSpl implements IAtomicCmd {
 				NormalCell nc;
 				int dr = rect.getBeginRow() - cs.rect.getBeginRow();
 				int dc = (int) (rect.getBeginCol() - cs.rect.getBeginCol());
-				// ĿϣһԱʽ
+				// 目标格子设置完毕，重新整理一遍相对表达式
 				if (dr >= 0) {
 					if (dc >= 0) {
 						for (int r = rect.getRowCount() - 1; r >= 0; r--) {
@@ -1215,7 +1215,7 @@ public class AtomicSpl implements IAtomicCmd {
 						}
 					}
 				}
-				// ȻԭԴӣصʱȻԭ
+				// 先还原源格子，两区域重叠时，必需先还原
 				for (int r = 0; r < cs.rect.getRowCount(); r++) {
 					for (int c = 0; c < cs.rect.getColCount(); c++) {
 						if (cs.oldData != null) {
@@ -1228,7 +1228,7 @@ public class AtomicSpl implements IAtomicCmd {
 					}
 				}
 
-				// Ŀ
+				// 设置目标格子
 				for (int r = 0; r < rect.getRowCount(); r++) {
 					for (int c = 0; c < rect.getColCount(); c++) {
 						nc = (NormalCell) cs.matrix.get(r, c);
@@ -1283,7 +1283,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡһӵ
+	 * 取上一个可视的行
 	 * 
 	 * @param parser
 	 * @param row
@@ -1298,7 +1298,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡһӵ
+	 * 取下一个可视的行
 	 * 
 	 * @param parser
 	 * @param row
@@ -1313,7 +1313,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡǰһӵ
+	 * 取前一个可视的列
 	 * 
 	 * @param parser
 	 * @param col
@@ -1328,7 +1328,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡһӵ
+	 * 取下一个可视的列
 	 * 
 	 * @param parser
 	 * @param col
@@ -1343,7 +1343,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * CellRect
+	 * CellRect不包含隐藏行
 	 *
 	 * @param cellSet CellSet
 	 * @param rect    CellRect
@@ -1375,7 +1375,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡĸӾ
+	 * 取区域的格子矩阵
 	 * 
 	 * @param cellSet
 	 * @param rect
@@ -1396,13 +1396,13 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * 
+	 * 调整格子
 	 * 
-	 * @param fromRect  Դ
-	 * @param toRect Ŀ
-	 * @param r    к
-	 * @param c    к
-	 * @param cell Ԫ
+	 * @param fromRect  源区域
+	 * @param toRect 目标区域
+	 * @param r    行号
+	 * @param c    列号
+	 * @param cell 单元格
 	 * @return
 	 */
 	public static List<NormalCell> exeAdjust(PgmCellSet cellSet,
@@ -1421,13 +1421,13 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * и
+	 * 设置行格子
 	 * 
 	 * @param cr
 	 * @param aRowCells
 	 */
 	private void setRowCells(CellRect cr, ArrayList aRowCells) {
-		// aRowCells, 0:׸,ΪӦеĸ
+		// aRowCells, 0:首格,后面依次为相应列的格子
 		RowCell rc = (RowCell) aRowCells.get(0);
 		for (int r = cr.getBeginRow(); r <= cr.getEndRow(); r++) {
 			control.cellSet.setRowCell(r, (RowCell) rc.deepClone());
@@ -1456,13 +1456,13 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * и
+	 * 设置列格子
 	 * 
 	 * @param cr
 	 * @param aColCells
 	 */
 	private void setColCells(CellRect cr, ArrayList aColCells) {
-		// aColCells, 0:׸,ΪӦеĸ
+		// aColCells, 0:首格,后面依次为相应行的格子
 		ColCell cc = (ColCell) aColCells.get(0);
 		for (int c = cr.getBeginCol(); c <= cr.getEndCol(); c++) {
 			control.cellSet.setColCell(c, (ColCell) cc.deepClone());
@@ -1491,7 +1491,7 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ô׸ľ
+	 * 设置带行列首格的矩形
 	 *
 	 * @param cr    CellRect
 	 * @param cells Vector
@@ -1541,10 +1541,10 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡͷĸ
+	 * 取行列头的格子
 	 * 
-	 * @param cr    
-	 * @param isRow trueȡУfalseȡ
+	 * @param cr    区域
+	 * @param isRow true取行，false取列
 	 * @return
 	 */
 	private Vector<Object> getHeaderRectCells(CellRect cr, boolean isRow) {
@@ -1559,10 +1559,10 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡи
+	 * 取行格子
 	 * 
-	 * @param beginRow ʼ
-	 * @param rowCount 
+	 * @param beginRow 起始行
+	 * @param rowCount 行数
 	 * @return
 	 */
 	private Vector<IRowCell> getRowCells(int beginRow, int rowCount) {
@@ -1574,10 +1574,10 @@ public class AtomicSpl implements IAtomicCmd {
 	}
 
 	/**
-	 * ȡи
+	 * 取列格子
 	 * 
-	 * @param beginCol ʼ
-	 * @param colCount 
+	 * @param beginCol 起始列
+	 * @param colCount 列数
 	 * @return
 	 */
 	private Vector<IColCell> getColCells(int beginCol, int colCount) {
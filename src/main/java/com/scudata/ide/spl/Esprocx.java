@@ -34,7 +34,7 @@ import com.scudata.util.DatabaseUtil;
 import com.scudata.util.Variant;
 
 /**
- * ʹødosֱִһdfxű
+ * 使用该类在dos命令中直接执行一个dfx脚本
  * 
  * @author Joancy
  *
@@ -43,9 +43,9 @@ public class Esprocx {
 	static RaqsoftConfig config;
 
 	public static void loadDataSource(Context ctx) throws Exception {
-		// ϵͳԴ
+		// 加载系统数据源
 		XMLFile configFile = ConfigFile.getSystemConfigFile().xmlFile();
-		Section ss = new Section(); // 쳣޷demoԴŲ
+		Section ss = new Section(); // 异常导致无法加demo数据源，挪到下面
 		ss = configFile.listElement(ConfigFile.PATH_DATASOURCE);
 		String sId, name;
 		String sconfig;
@@ -64,8 +64,8 @@ public class Esprocx {
 	}
 
 	/**
-	 * ׼Ļ
-	 * @return Ļ
+	 * 准备计算上下文环境
+	 * @return 上下文环境
 	 */
 	public static Context prepareEnv() {
 		Context ctx;
@@ -87,10 +87,10 @@ public class Esprocx {
 	}
 
 	/**
-	 * GM÷ҪGM࣬ⲻҪawtã
-	 * Ӧڷͼβϵͳִиࡣ
-	 * @param path ·ļ
-	 * @return ·
+	 * 从GM抄过来该方法，不要调用GM类，避免不必要的awt引用，
+	 * 以适应在非图形操作系统下执行该类。
+	 * @param path 相对路径文件名
+	 * @return 绝对路径名
 	 */
 	public static String getAbsolutePath(String path) {
 		String home = System.getProperty("start.home");
@@ -98,10 +98,10 @@ public class Esprocx {
 	}
 
 	/**
-	 * ·ƴhomeϲΪ·
-	 * @param path ļ
-	 * @param home home·
-	 * @return ·
+	 * 将路径拼上home，合并为绝对路径
+	 * @param path 相对文件名
+	 * @param home home路径
+	 * @return 绝对路径名
 	 */
 	public static String getAbsolutePath(String path, String home) {
 		if (home != null && (home.endsWith("\\") || home.endsWith("/"))) {
@@ -123,8 +123,8 @@ public class Esprocx {
 
 	/**
 	 * 
-	 * init֮ǰûеԼֻsystem.err; 
-	 * init֮Ĵʹlogger.debug
+	 * init之前没有调试级别，只能system.err; 
+	 * init之后的代码才能使用logger.debug
 	 *
 	 * @throws Exception
 	 */
@@ -133,7 +133,7 @@ public class Esprocx {
 		if (!StringUtils.isValidString(startHome)) {
 			System.setProperty("raqsoft.home", System.getProperty("user.home"));
 		} else {
-			System.setProperty("raqsoft.home", startHome + ""); // ԭuser.dir,
+			System.setProperty("raqsoft.home", startHome + ""); // 原来用user.dir,
 		}
 
 		String envFile = getAbsolutePath("/config/raqsoftConfig.xml");
@@ -161,8 +161,8 @@ public class Esprocx {
 	static int finishedWorkers = 0;
 
 	/**
-	 * ҵʱһҵһθķ
-	 * һɵҵ
+	 * 多作业并发时，完成一个作业调用一次改方法
+	 * 计数一个完成的作业
 	 */
 	public static synchronized void addFinish() {
 		finishedWorkers++;
@@ -171,7 +171,7 @@ public class Esprocx {
 	}
 
 	/**
-	 * Ŀ¼ãĿ¼ΪգΪǰĿ¼
+	 * 检查主目录设置，如果主目录为空，则设置为当前目录
 	 */
 	private static void checkMainPath() {
 		String mainPath = Env.getMainPath();
@@ -183,34 +183,34 @@ public class Esprocx {
 	}
 
 	/**
-	 * ʹøIDEͬԼעDosִһdfx 
-	 * ö߳nͬʱִеǰdfx 
+	 * 使用跟IDE相同的配置以及注册码在Dos窗口执行一个dfx 
+	 * 用多线程n同时并发执行当前的dfx。 
 	 * 
-	 * @param args ִеĲ
+	 * @param args 执行的参数
 	 */
 	public static void main(String[] args) throws Exception {
 		boolean debug = false;
 		String etlUsage = "Esprocx [etlFile] [argN] ...\r\n"
-				+ " [etlFile]   Ѱַ··etlļҲǾ·\r\n"
-				+ " [argN]      etlFileвʱ ˳ ָ\r\n";
+				+ " [etlFile]   相对于寻址路径或者主路径的etl文件名，也可以是绝对路径。\r\n"
+				+ " [argN]      etlFile有参数时，参数按照 参数顺序 指定。\r\n";
 
 		String fileExts = AppConsts.SPL_FILE_EXTS + "," + "etl";
 
-		String usage = "ִһ" + fileExts
-				+ "ļһ׵ıʽSQLһıdfxű\r\n\r\n"
-				+ "Esprocx [-r] [-c]\r\n" + " [-r]   ӡؽ̨\r\n"
-				+ " [-c]   ӿ̨һTabֿĶʽűִ(Ctrl+C¼)\r\n\r\n"
+		String usage = "用于执行一个" + fileExts
+				+ "文件、一个简易的表达式、简单SQL或一个文本描述的dfx脚本。\r\n\r\n"
+				+ "Esprocx [-r] [-c]\r\n" + " [-r]   打印返回结果到控制台。\r\n"
+				+ " [-c]   从控制台读入一个列用Tab键分开的多行式网格脚本来执行(Ctrl+C结束录入)。\r\n\r\n"
 				+ "Esprocx [-r] [dfxFile] [arg0] [arg1]...\r\n"
-				+ " [dfxFile]   Ѱַ··dfxļҲǾ·\r\n"
-				+ " [argN]      dfxFileв˳ζӦ\r\n\r\n" + etlUsage
-				+ "Esprocx [-r] [exp]\r\n" + " [exp]   һdfxű\r\n\r\n"
-				+ "ʾ:\r\n" + "  Esprocx -r -c\r\n"
-				+ "    ִһ¼ıʽ񲢴ӡؽ\r\n"
+				+ " [dfxFile]   相对于寻址路径或者主路径的dfx文件名，也可以是绝对路径。\r\n"
+				+ " [argN]      如果是dfxFile且有参数，按顺序依次对应。\r\n\r\n" + etlUsage
+				+ "Esprocx [-r] [exp]\r\n" + " [exp]   一句dfx脚本命令。\r\n\r\n"
+				+ "示例:\r\n" + "  Esprocx -r -c\r\n"
+				+ "    执行一个待录入的文本式网格并打印返回结果。\r\n"
 				+ "  Esprocx -r demo.splx arg1 arg2\r\n"
-				+ "    òarg1arg2ִѰַ·ϵdemo.splxӡؽ\r\n"
+				+ "    用参数arg1、arg2执行寻址路径上的demo.splx，打印返回结果。\r\n"
 				+ "  Esprocx SELECT count(*) FROM t.json\r\n"
-				+ "    ִһSQL\r\n" + "  Esprocx demo.etl 1\r\n"
-				+ "    ӦmonthΪ1£ִѰַ·ϵdemo.etl\r\n";
+				+ "    执行一句简单SQL。\r\n" + "  Esprocx demo.etl 1\r\n"
+				+ "    对应参数month为1月，执行寻址路径上的demo.etl。\r\n";
 
 		String etlUsageEn = "Esprocx [etlFile] [argN]...\r\n"
 				+ " [etlFile]   An etl file name relative to a search path or a main path; can be an absolute path. \r\n"
@@ -260,11 +260,11 @@ public class Esprocx {
 			}
 		}
 
-		boolean existStar = false;//  Select *
+		boolean existStar = false;// 处理 Select *
 		if (args.length > 0) {
 			for (int i = 0; i < args.length; i++) {
 				arg = args[i];// .toLowerCase();
-				boolean existSpace = false;// ˴滻c⴦Ŀո
+				boolean existSpace = false;// 此处替换回c传过来的特殊处理的空格跟引号
 				char[] argchars = arg.toCharArray();
 				for (int n = 0; n < argchars.length; n++) {
 					if (argchars[n] == 2) {
@@ -279,7 +279,7 @@ public class Esprocx {
 					arg = new String(argchars);
 				}
 
-				if (arg.toLowerCase().equals("com.scudata.ide.spl.esproc")) { // bat򿪵ļǲ
+				if (arg.toLowerCase().equals("com.scudata.ide.spl.esproc")) { // 用bat打开的文件，类名本身会是参数
 					continue;
 				}
 				if (arg.toLowerCase().startsWith("-r")) {
@@ -288,7 +288,7 @@ public class Esprocx {
 					i++;
 					String tmp = args[i];
 					threadCount = Integer.parseInt(tmp);
-				} else if (arg.toLowerCase().startsWith("-s")) {// ִ
+				} else if (arg.toLowerCase().startsWith("-s")) {// 串行执行
 					i++;
 					String tmp = args[i];
 					threadCount = Integer.parseInt(tmp);
@@ -345,9 +345,9 @@ public class Esprocx {
 			if (debug) {
 				dfxFile = "d:\\p2.splx";
 			}
-			initEnv();// 趨IDEͬStartHome
+			initEnv();// 设定跟IDE相同的StartHome
 			checkMainPath();
-			// ˻жϿƵ
+			// 有了环境后才能判断控制点
 			FileObject fo = null;
 			if (dfxFile != null) {
 				fo = new FileObject(dfxFile, "s");
@@ -395,9 +395,9 @@ public class Esprocx {
 					}
 				} else {
 					Logger.severe(ParallelMessage.get().getMessage(
-							"Esproc.unsupportedfile", dfxFile));// "ֵ֧ļ"+dfxFile);
+							"Esproc.unsupportedfile", dfxFile));// "不支持的文件："+dfxFile);
 				}
-			} else {// ʽ
+			} else {// 表达式
 				Context context = Esprocx.prepareEnv();
 				try {
 					String cmd;
@@ -432,8 +432,8 @@ public class Esprocx {
 	}
 
 	/**
-	 * ȡȫֵΨһ
-	 * @return Ψһ
+	 * 获取全局的唯一号
+	 * @return 唯一编号
 	 */
 	public static synchronized String getUUID() {
 		return UUID.randomUUID().toString();
@@ -451,8 +451,8 @@ public class Esprocx {
 	}
 
 	/**
-	 * ִеĽӡ̨
-	 * @param result 
+	 * 将执行的结果打印到控制台
+	 * @param result 计算结果
 	 */
 	public static void printResult(Object result) {
 		if (result instanceof Sequence) {
@@ -497,7 +497,7 @@ class Worker extends Thread {
 				while (pcs.hasNextResult()) {
 					CellLocation cl = pcs.nextResultLocation();
 					System.out.println();
-					if (cl != null) {// ûreturnʱλΪnull
+					if (cl != null) {// 没用return语句时，位置为null
 						String msg = cl + ":";
 						System.err.println(msg);
 					}
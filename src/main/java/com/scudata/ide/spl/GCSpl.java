@@ -3,342 +3,342 @@ package com.scudata.ide.spl;
 import com.scudata.ide.common.GC;
 
 /**
- * 
+ * 集算器常量
  *
  */
 public class GCSpl extends GC {
 	/**
-	 * ½ǰ׺
+	 * 集算网新建网格名称前缀
 	 */
 	public final static String PRE_NEWPGM = "p";
 	/**
-	 * ETL½ǰ׺
+	 * ETL新建网格名称前缀
 	 */
 	public final static String PRE_NEWETL = "s";
 
 	/**
-	 * ȱʡи
+	 * 缺省的行高
 	 */
 	public final static int DEFAULT_ROW_HEIGHT = 20;
 
 	/**
-	 * ˵
+	 * 菜单常量
 	 */
 	/**
-	 * ļ
+	 * 文件
 	 */
-	/** ½SPL(T) */
+	/** 新建SPL(T) */
 	public static final String NEW_SPL = "file.newspl";
-	/** 浽FTP(P) */
+	/** 保存到FTP(P) */
 	public static final String SAVE_FTP = "file.saveftp";
-	/** SPLļ(I) */
+	/** 导入SPL文件(I) */
 	// public static final String FILE_LOADTXT = "file.loadtxt";
-	/** SPLļ(E) */
+	/** 导出成SPL文件(E) */
 	// public static final String FILE_EXPORTTXT = "file.exporttxt";
-	/** ´ļ(R) */
+	/** 重新打开文件(R) */
 	public static final String FILE_REOPEN = "file.reopen";
 
-	/** ½SPL(T) */
+	/** 新建SPL(T) */
 	public static final short iNEW_SPL = MENU_SPL + 3;
-	/** 浽FTP(P) */
+	/** 保存到FTP(P) */
 	public static final short iSAVE_FTP = MENU_SPL + 5;
-	/** SPLļ(I) */
+	/** 导入SPL文件(I) */
 	// public static final short iSPL_IMPORT_TXT = MENU_SPL + 11;
-	/** SPLļ(E) */
+	/** 导出成SPL文件(E) */
 	// public static final short iFILE_EXPORTTXT = MENU_SPL + 21;
-	/** ´ļ(R) */
+	/** 重新打开文件(R) */
 	public static final short iFILE_REOPEN = MENU_SPL + 31;
 
 	/**
-	 * ༭(E)
+	 * 编辑(E)
 	 */
 	public static final String EDIT = "edit";
-	/** (Z) */
+	/** 撤销(Z) */
 	public static final String UNDO = "edit.undo";
-	/** (Y) */
+	/** 重做(Y) */
 	public static final String REDO = "edit.redo";
-	/** Ʋ˵ */
+	/** 复制菜单 */
 	public static final String COPY_MENU = "edit.copymenu";
-	/** ctrl-C */
+	/** 复制ctrl-C */
 	public static final String COPY = "edit.copy";
-	/** ֵctrl-alt-C */
+	/** 值复制ctrl-alt-C */
 	public static final String COPYVALUE = "edit.copyvalue";
-	/** 븴ctrl-shift-C */
+	/** 代码复制ctrl-shift-C */
 	public static final String CODE_COPY = "edit.codecopy";
-	/** ƿɳִ(C)޴html */
+	/** 复制可呈现代码(C)无窗口html */
 	public static final String COPY_HTML = "edit.copyhtml";
-	/** ƿɳִ(P) */
+	/** 复制可呈现代码(P) */
 	public static final String COPY_HTML_DIALOG = "edit.copyhtmldialog";
-	/** ctrl-X */
+	/** 剪切ctrl-X */
 	public static final String CUT = "edit.cut";
-	/** ճ˵ */
+	/** 粘贴菜单 */
 	public static final String PASTE_MENU = "edit.pastemenu";
-	/** ճctrl-V */
+	/** 粘贴ctrl-V */
 	public static final String PASTE = "edit.paste";
-	/** Ǩճctrl-alt-V */
+	/** 变迁粘贴ctrl-alt-V */
 	public static final String PASTE_ADJUST = "edit.pasteadjust";
 	/** Ctrl-Shift-V */
 	public static final String PASTE_SPECIAL = "edit.pastespecial";
-	/** ճctrl-B */
+	/** 插入粘贴ctrl-B */
 	public static final String PASTE_INSERT = "edit.pasteinsert";
-	/** Ǩճctrl-alt-B */
+	/** 插入变迁粘贴ctrl-alt-B */
 	public static final String PASTE_ADJUST_INSERT = "edit.pasteadjustinsert";
-	/**  */
+	/** 插入 */
 	public static final String INSERT = "edit.insert";
-	/** (R) */
+	/** 插入行(R) */
 	public static final String INSERT_ROW = "edit.insertrow";
-	/** ׷(A) */
+	/** 追加行(A) */
 	public static final String ADD_ROW = "edit.addrow";
-	/**  */
+	/** 复制行 */
 	public static final String DUP_ROW = "edit.duprow";
-	/**  */
+	/** 复制行 */
 	public static final String DUP_ROW_ADJUST = "edit.duprowadjust";
-	/** (C) */
+	/** 插入列(C) */
 	public static final String INSERT_COL = "edit.insertcol";
-	/** ׷(D) */
+	/** 追加列(D) */
 	public static final String ADD_COL = "edit.addcol";
-	/** س(E)ctrl-enter */
+	/** 回车换行(E)ctrl-enter */
 	public static final String CTRL_ENTER = "edit.ctrlenter";
-	/** ƵԪ(I)ctrl-insert */
+	/** 右移单元格(I)ctrl-insert */
 	public static final String CTRL_INSERT = "edit.ctrlinsert";
-	/** ƵԪ(S)alt-insert */
+	/** 下移单元格(S)alt-insert */
 	public static final String ALT_INSERT = "edit.altinsert";
-	/** ɾ(D) */
+	/** 删除(D) */
 	public static final String DELETE = "edit.delete";
-	/**  */
+	/** 清除 */
 	public static final String CLEAR = "edit.clear";
-	/** ȫ */
+	/** 全部清除 */
 	public static final String FULL_CLEAR = "edit.fullclear";
-	/** ɾ(R) */
+	/** 删除行(R) */
 	public static final String DELETE_ROW = "edit.deleterow";
-	/** ɾ(C) */
+	/** 删除列(C) */
 	public static final String DELETE_COL = "edit.deletecol";
-	/** ˸(B)ctrl-backspace */
+	/** 退格(B)ctrl-backspace */
 	public static final String CTRL_BACK = "edit.ctrlback";
-	/** ɾ(D)ctrl-delete */
+	/** 本格删除(D)ctrl-delete */
 	public static final String CTRL_DELETE = "edit.ctrldelete";
-	/** ƶ(M) */
+	/** 移动复制(M) */
 	public static final String MOVE_COPY = "edit.movecopy";
-	/** ƶ */
+	/** 向上移动复制 */
 	public static final String MOVE_COPY_UP = "edit.movecopyup";
-	/** ƶ */
+	/** 向下移动复制 */
 	public static final String MOVE_COPY_DOWN = "edit.movecopydown";
-	/** ƶ */
+	/** 向左移动复制 */
 	public static final String MOVE_COPY_LEFT = "edit.movecopyleft";
-	/** ƶ */
+	/** 向右移动复制 */
 	public static final String MOVE_COPY_RIGHT = "edit.movecopyright";
-	/** ı༭ */
+	/** 文本编辑框 */
 	public static final String TEXT_EDITOR = "edit.texteditor";
-	/** ע ctrl-/ */
+	/** 注释 ctrl-/ */
 	public static final String NOTE = "edit.note";
-	/** ʽ(O) */
+	/** 格式(O) */
 	public static final String FORMAT = "edit.format";
-	/** и(H) */
+	/** 行高(H) */
 	public static final String ROW_HEIGHT = "edit.rowheight";
-	/** и(R) */
+	/** 合适行高(R) */
 	public static final String ROW_ADJUST = "edit.rowadjust";
-	/** (I) */
+	/** 隐藏行(I) */
 	public static final String ROW_HIDE = "edit.rowhide";
-	/** ȡ(V) */
+	/** 取消隐藏行(V) */
 	public static final String ROW_VISIBLE = "edit.rowvisible";
-	/** п(W) */
+	/** 列宽(W) */
 	public static final String COL_WIDTH = "edit.colwidth";
-	/** п(C) */
+	/** 合适列宽(C) */
 	public static final String COL_ADJUST = "edit.coladjust";
-	/** (D) */
+	/** 隐藏列(D) */
 	public static final String COL_HIDE = "edit.colhide";
-	/** ȡ(S) */
+	/** 取消隐藏列(S) */
 	public static final String COL_VISIBLE = "edit.colvisible";
-	/** ͳͼ(G) */
+	/** 统计图(G) */
 	public static final String CHART = "edit.chart";
-	/** (A) */
+	/** 函数辅助(A) */
 	public static final String FUNC_ASSIST = "edit.funcassist";
-	/** 񻭲(G) */
+	/** 网格画布(G) */
 	public static final String CANVAS = "edit.canvas";
-	/** (F) */
+	/** 查找(F) */
 	public static final String SEARCH = "edit.search";
-	/** 滻(R) */
+	/** 替换(R) */
 	public static final String REPLACE = "edit.replace";
 
-	/** (Z) */
+	/** 撤销(Z) */
 	public static final short iUNDO = MENU_SPL + 101;
-	/** (Y) */
+	/** 重做(Y) */
 	public static final short iREDO = MENU_SPL + 103;
-	/** ctrl-C */
+	/** 复制ctrl-C */
 	public static final short iCOPY = MENU_SPL + 111;
-	/** ֵctrl-alt-C */
+	/** 值复制ctrl-alt-C */
 	public static final short iCOPYVALUE = MENU_SPL + 113;
-	/** 븴ctrl-shift-C */
+	/** 代码复制ctrl-shift-C */
 	public static final short iCODE_COPY = MENU_SPL + 115;
-	/** ƿɳִ(C)޴html */
+	/** 复制可呈现代码(C)无窗口html */
 	public static final short iCOPY_HTML = MENU_SPL + 117;
-	/** ƿɳִ(P) */
+	/** 复制可呈现代码(P) */
 	public static final short iCOPY_HTML_DIALOG = MENU_SPL + 119;
-	/** ctrl-X */
+	/** 剪切ctrl-X */
 	public static final short iCUT = MENU_SPL + 121;
-	/** ճctrl-V */
+	/** 粘贴ctrl-V */
 	public static final short iPASTE = MENU_SPL + 123;
-	/** Ǩճctrl-alt-V */
+	/** 变迁粘贴ctrl-alt-V */
 	public static final short iPASTE_ADJUST = MENU_SPL + 125;
 	/** Ctrl-Shift-V */
 	public static final short iPASTE_SPECIAL = MENU_SPL + 127;
-	/** (C) */
+	/** 插入列(C) */
 	public static final short iINSERT_COL = MENU_SPL + 131;
-	/** ׷(D) */
+	/** 追加列(D) */
 	public static final short iADD_COL = MENU_SPL + 133;
-	/**  */
+	/** 复制行 */
 	public static final short iDUP_ROW = MENU_SPL + 141;
-	/**  */
+	/** 复制行 */
 	public static final short iDUP_ROW_ADJUST = MENU_SPL + 143;
-	/** س(E)ctrl-enter */
+	/** 回车换行(E)ctrl-enter */
 	public static final short iCTRL_ENTER = MENU_SPL + 145;
-	/** ƵԪ(I)ctrl-insert */
+	/** 右移单元格(I)ctrl-insert */
 	public static final short iCTRL_INSERT = MENU_SPL + 151;
-	/** ƵԪ(S)alt-insert */
+	/** 下移单元格(S)alt-insert */
 	public static final short iALT_INSERT = MENU_SPL + 153;
-	/**  */
+	/** 清除 */
 	public static final short iCLEAR = MENU_SPL + 160;
-	/** ȫ */
+	/** 全部清除 */
 	public static final short iFULL_CLEAR = MENU_SPL + 162;
-	/** ɾ(R) */
+	/** 删除行(R) */
 	public static final short iDELETE_ROW = MENU_SPL + 164;
-	/** ɾ(C) */
+	/** 删除列(C) */
 	public static final short iDELETE_COL = MENU_SPL + 165;
-	/** ˸(B)ctrl-backspace */
+	/** 退格(B)ctrl-backspace */
 	public static final short iCTRL_BACK = MENU_SPL + 167;
-	/** ɾ(D)ctrl-delete */
+	/** 本格删除(D)ctrl-delete */
 	public static final short iCTRL_DELETE = MENU_SPL + 169;
-	/** ı༭ */
+	/** 文本编辑框 */
 	public static final short iTEXT_EDITOR = MENU_SPL + 171;
-	/** ƶ */
+	/** 向上移动复制 */
 	public static final short iMOVE_COPY_UP = MENU_SPL + 175;
-	/** ƶ */
+	/** 向下移动复制 */
 	public static final short iMOVE_COPY_DOWN = MENU_SPL + 176;
-	/** ƶ */
+	/** 向左移动复制 */
 	public static final short iMOVE_COPY_LEFT = MENU_SPL + 177;
-	/** ƶ */
+	/** 向右移动复制 */
 	public static final short iMOVE_COPY_RIGHT = MENU_SPL + 178;
-	/** ע ctrl-/ */
+	/** 注释 ctrl-/ */
 	public static final short iNOTE = MENU_SPL + 180;
-	/** и(H) */
+	/** 行高(H) */
 	public static final short iROW_HEIGHT = MENU_SPL + 182;
-	/** и(R) */
+	/** 合适行高(R) */
 	public static final short iROW_ADJUST = MENU_SPL + 183;
-	/** (I) */
+	/** 隐藏行(I) */
 	public static final short iROW_HIDE = MENU_SPL + 184;
-	/** ȡ(V) */
+	/** 取消隐藏行(V) */
 	public static final short iROW_VISIBLE = MENU_SPL + 185;
-	/** п(W) */
+	/** 列宽(W) */
 	public static final short iCOL_WIDTH = MENU_SPL + 186;
-	/** п(C) */
+	/** 合适列宽(C) */
 	public static final short iCOL_ADJUST = MENU_SPL + 187;
-	/** (D) */
+	/** 隐藏列(D) */
 	public static final short iCOL_HIDE = MENU_SPL + 188;
-	/** ȡ(S) */
+	/** 取消隐藏列(S) */
 	public static final short iCOL_VISIBLE = MENU_SPL + 189;
-	/** ͳͼ(G) */
+	/** 统计图(G) */
 	public static final short iEDIT_CHART = MENU_SPL + 191;
-	/** (A) */
+	/** 函数辅助(A) */
 	public static final short iFUNC_ASSIST = MENU_SPL + 193;
-	/** (F) */
+	/** 查找(F) */
 	public static final short iSEARCH = MENU_SPL + 195;
-	/** 滻(R) */
+	/** 替换(R) */
 	public static final short iREPLACE = MENU_SPL + 197;
 
 	/**
-	 * (P)
+	 * 程序(P)
 	 */
 	public static final String PROGRAM = "program";
-	/** (P) */
+	/** 网格参数(P) */
 	public static final String PARAM = "program.param";
-	/** ִл */
+	/** 重置执行环境 */
 	public static final String RESET = "program.reset";
-	/** ִ */
+	/** 执行 */
 	public static final String EXEC = "program.exec";
-	/** ִ */
+	/** 调试执行 */
 	public static final String EXE_DEBUG = "program.exe_debug";
-	/** ִе */
+	/** 执行到光标 */
 	public static final String STEP_CURSOR = "program.stepcursor";
-	/** ִ */
+	/** 单步执行 */
 	public static final String STEP_NEXT = "program.stepnext";
-	/**  */
+	/** 单步进入 */
 	public static final String STEP_INTO = "program.stepinto";
-	/**  */
+	/** 单步返回 */
 	public static final String STEP_RETURN = "program.stepreturn";
-	/** жϵ(T) */
+	/** 中断单步调试(T) */
 	public static final String STEP_STOP = "program.stepstop";
-	/** ִͣ */
+	/** 暂停执行 */
 	public static final String PAUSE = "program.pause";
-	/** ִ */
+	/** 继续执行 */
 	public static final String CONTINUE = "program.continue";
-	/** ִֹͣ */
+	/** 停止执行 */
 	public static final String STOP = "program.stop";
-	/** /ȡϵ */
+	/** 设置/取消断点 */
 	public static final String BREAKPOINTS = "program.breakpoints";
-	/** 㵱ǰ */
+	/** 计算当前格并锁定 */
 	public static final String CALC_LOCK = "program.execlock";
-	/** ֵ */
+	/** 计算格值 */
 	public static final String CALC_AREA = "program.execarea";
-	/** ʾֵ */
+	/** 显示格值 */
 	public static final String SHOW_VALUE = "programe.showcellvalue";
-	/** ֵ(C) */
+	/** 清除格值(C) */
 	public static final String CLEAR_VALUE = "program.clearvalue";
-	/** ͼλ(A) */
+	/** 图形绘制(A) */
 	public static final String DRAW_CHART = "program.drawchart";
 
-	/** (P) */
+	/** 网格参数(P) */
 	public static final short iPARAM = MENU_SPL + 201;
-	/** ִл */
+	/** 重置执行环境 */
 	public static final short iRESET = MENU_SPL + 210;
-	/** ִ */
+	/** 执行 */
 	public static final short iEXEC = MENU_SPL + 221;
-	/** ִ */
+	/** 调试执行 */
 	public static final short iEXE_DEBUG = MENU_SPL + 223;
-	/** ִе */
+	/** 执行到光标 */
 	public static final short iSTEP_CURSOR = MENU_SPL + 225;
-	/** ִ */
+	/** 单步执行 */
 	public static final short iSTEP_NEXT = MENU_SPL + 231;
-	/**  */
+	/** 单步进入 */
 	public static final short iSTEP_INTO = MENU_SPL + 233;
-	/**  */
+	/** 单步返回 */
 	public static final short iSTEP_RETURN = MENU_SPL + 235;
-	/** жϵ(T) */
+	/** 中断单步调试(T) */
 	public static final short iSTEP_STOP = MENU_SPL + 237;
-	/** ͣͼִ */
+	/** 暂停和继续执行 */
 	public static final short iPAUSE = MENU_SPL + 241;
-	/** ִֹͣ */
+	/** 停止执行 */
 	public static final short iSTOP = MENU_SPL + 243;
-	/** /ȡϵ */
+	/** 设置/取消断点 */
 	public static final short iBREAKPOINTS = MENU_SPL + 251;
-	/** 㵱ǰ */
+	/** 计算当前格并锁定 */
 	public static final short iCALC_LOCK = MENU_SPL + 261;
-	/** ֵ */
+	/** 计算格值 */
 	public static final short iCALC_AREA = MENU_SPL + 263;
-	/** ʾֵ */
+	/** 显示格值 */
 	public static final short iSHOW_VALUE = MENU_SPL + 265;
-	/** ֵ(C) */
+	/** 清除格值(C) */
 	public static final short iCLEAR_VALUE = MENU_SPL + 267;
-	/** ͼλ(A) */
+	/** 图形绘制(A) */
 	public static final short iDRAW_CHART = MENU_SPL + 271;
 
-	/** (T) */
+	/** 工具(T) */
 	public static final String TOOL = "tool";
-	/** (N) */
+	/** 网格常量(N) */
 	public static final String CONST = "program.const";
-	/** ִ */
+	/** 命令行执行网格 */
 	public static final String EXEC_CMD = "tool.execcmd";
-	/** Sql(Q) */
+	/** Sql生成器(Q) */
 	public static final String SQLGENERATOR = "program.sqlgenerator";
-	/** ļв滻 */
+	/** 在文件中查找替换 */
 	public static final String FILE_REPLACE = "tool.filereplace";
 
-	/** (N) */
+	/** 网格常量(N) */
 	public static final short iCONST = MENU_SPL + 301;
-	/** ִ */
+	/** 命令行执行网格 */
 	public static final short iEXEC_CMD = MENU_SPL + 311;
-	/** Sql(Q) */
+	/** Sql生成器(Q) */
 	public static final short iSQLGENERATOR = MENU_SPL + 321;
-	/** ļв滻 */
+	/** 在文件中查找替换 */
 	public static final short iFILE_REPLACE = MENU_SPL + 341;
 
 }
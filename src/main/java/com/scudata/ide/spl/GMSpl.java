@@ -60,10 +60,10 @@ import com.scudata.ide.spl.resources.IdeSplMessage;
 public class GMSpl extends GM {
 
 	/**
-	 * ִв˵Sheet
+	 * 执行菜单或者Sheet命令
 	 * 
 	 * @param cmd
-	 *            GCSplGCжĲ˵
+	 *            GCSpl及GC中定义的菜单常量
 	 * @throws Exception
 	 */
 	public static void executeCmd(short cmd) throws Exception {
@@ -216,12 +216,12 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ָȡԪ
+	 * 从网格的指定区域取单元格矩阵
 	 * 
 	 * @param cellSet
-	 *            
+	 *            网格
 	 * @param rect
-	 *            
+	 *            区域
 	 * @return
 	 */
 	public static Matrix getMatrixCells(CellSet cellSet, CellRect rect) {
@@ -229,14 +229,14 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ָȡԪ
+	 * 从网格的指定区域取单元格矩阵
 	 * 
 	 * @param cellSet
-	 *            
+	 *            网格
 	 * @param rect
-	 *            
+	 *            区域
 	 * @param cloneCell
-	 *            ԪǷ¡
+	 *            单元格是否克隆
 	 * @return
 	 */
 	public static Matrix getMatrixCells(CellSet cellSet, CellRect rect,
@@ -290,14 +290,14 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ȡƶӵԭ
+	 * 取移动区域格子的原子命令集合
 	 * 
 	 * @param editor
-	 *            ༭
+	 *            网格编辑器
 	 * @param srcRect
-	 *            Դ
+	 *            源区域
 	 * @param tarRect
-	 *            Ŀ
+	 *            目标区域
 	 * @return
 	 */
 	public static Vector<IAtomicCmd> getMoveRectCmd(SplEditor editor,
@@ -340,12 +340,12 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ȡп
+	 * 取最大的列宽度
 	 * 
 	 * @param cs
-	 *            
+	 *            网格
 	 * @param col
-	 *            
+	 *            列
 	 * @return
 	 */
 	public static float getMaxColWidth(CellSet cs, int col) {
@@ -378,12 +378,12 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ȡи߶
+	 * 取最大的行高度
 	 * 
 	 * @param cs
-	 *            
+	 *            网格
 	 * @param row
-	 *            к
+	 *            行号
 	 * @return
 	 */
 	public static float getMaxRowHeight(CellSet cs, int row) {
@@ -418,7 +418,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ӳҳ޸״̬
+	 * 延迟设置网页被修改状态
 	 */
 	public static void invokeSheetChanged() {
 		SwingUtilities.invokeLater(new Runnable() {
@@ -429,7 +429,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ıļsplļ
+	 * 导入文本文件到spl文件
 	 * 
 	 * @return
 	 */
@@ -452,10 +452,10 @@ public class GMSpl extends GM {
 	// }
 
 	/**
-	 * ȡSPLļ
+	 * 读取SPL文件到程序网格
 	 * 
 	 * @param filePath
-	 *            SPLļ·
+	 *            SPL文件路径
 	 * @return
 	 * @throws Exception
 	 */
@@ -510,7 +510,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ȡ
+	 * 取新网格名称
 	 * 
 	 * @return
 	 */
@@ -520,7 +520,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ȡظ
+	 * 取不重复的新网格名称
 	 * 
 	 * @param pre
 	 * @return
@@ -543,7 +543,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * 水ť
+	 * 激活保存按钮
 	 */
 	public static void enableSave() {
 		if (GVSpl.splEditor != null)
@@ -552,10 +552,10 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ޸ı水ť״̬
+	 * 修改保存按钮状态
 	 * 
 	 * @param isDataChanged
-	 *            Ƿ񼤻水ť
+	 *            是否激活保存按钮
 	 */
 	public static void enableSave(boolean isDataChanged) {
 		if (GV.appMenu != null) {
@@ -567,14 +567,14 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * config.txtļеļ
+	 * config.txt文件中的键名
 	 */
 	private static final String KEY_JVM = "jvm_args";
 	private static final String KEY_XMX = "-xmx";
 	private static final String KEY_XMS = "-xms";
 
 	/**
-	 * ȡڴ
+	 * 取最大内存
 	 * 
 	 * @return
 	 */
@@ -601,7 +601,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ڴ
+	 * 设置最大内存
 	 * 
 	 * @param xmx
 	 */
@@ -611,7 +611,7 @@ public class GMSpl extends GM {
 		xmx = xmx.trim();
 		try {
 			Integer.parseInt(xmx);
-			xmx += "m"; // ûдλƴM
+			xmx += "m"; // 没写单位拼上M
 		} catch (Exception e) {
 		}
 		String jvmArgs = getConfigValue(KEY_JVM);
@@ -637,7 +637,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ȡļ·
+	 * 取配置文件的路径
 	 * @return
 	 */
 	private static String getConfigTxtFilePath() {
@@ -647,7 +647,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ȡbin/config.txt
+	 * 读取bin/config.txt
 	 * @return
 	 */
 	private static String readConfigTxt() {
@@ -668,7 +668,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * config.txtļȡֵָ
+	 * 从config.txt文件中取指定键的值
 	 * 
 	 * @param key
 	 * @return
@@ -684,7 +684,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * config.txtļеļֵ
+	 * 设置config.txt文件中的键值
 	 * 
 	 * @param key
 	 * @param value
@@ -703,7 +703,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ȡʽ
+	 * 取网格表达式
 	 * @param cellSet
 	 * @return
 	 */
@@ -723,8 +723,8 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ȡ仯ĵԪʽ
-	 * @return nullʾޱ仯
+	 * 取变化的单元格表达式
+	 * @return 返回null表示无变化
 	 */
 	public static Map<String, String> getExpChangedMap(PgmCellSet cellSet,
 			String[][] cellExps) {
@@ -760,34 +760,34 @@ public class GMSpl extends GM {
 		return map;
 	}
 
-	/**  */
+	/** 属性名 */
 	public static final String TITLE_NAME = IdeSplMessage.get().getMessage(
 			"jtablevalue.name");
-	/** ֵ */
+	/** 属性值 */
 	public static final String TITLE_PROP = IdeSplMessage.get().getMessage(
 			"jtablevalue.property");
-	/** Դ */
+	/** 数据源名称 */
 	private static final String DB_NAME = IdeSplMessage.get().getMessage(
 			"jtablevalue.dbname");
-	/** û */
+	/** 用户名 */
 	private static final String USER = IdeSplMessage.get().getMessage(
 			"jtablevalue.user");
-	/**  */
+	/** 密码 */
 	private static final String PASSWORD = IdeSplMessage.get().getMessage(
 			"jtablevalue.password");
-	/** ݿ */
+	/** 数据库类型 */
 	private static final String DB_TYPE = IdeSplMessage.get().getMessage(
 			"jtablevalue.dbtype");
-	/**  */
+	/** 驱动程序 */
 	private static final String DRIVER = IdeSplMessage.get().getMessage(
 			"jtablevalue.driver");
-	/** ԴURL */
+	/** 数据源URL */
 	private static final String URL = IdeSplMessage.get().getMessage(
 			"jtablevalue.url");
-	/** ģʽ */
+	/** 对象名带模式 */
 	private static final String USE_SCHEMA = IdeSplMessage.get().getMessage(
 			"jtablevalue.useschema");
-	/** ޶ */
+	/** 对象名带限定符 */
 	private static final String ADD_TILDE = IdeSplMessage.get().getMessage(
 			"jtablevalue.addtilde");
 
@@ -820,7 +820,7 @@ public class GMSpl extends GM {
 	}
 
 	/**
-	 * ƶڼճ
+	 * 移动区域，用于在网格内剪切粘贴
 	 * @param cellSet
 	 * @param fromRect
 	 * @param toRect
@@ -835,7 +835,7 @@ public class GMSpl extends GM {
 		int dr = toRect.getBeginRow() - fromRect.getBeginRow();
 		int dc = (int) (toRect.getBeginCol() - fromRect.getBeginCol());
 
-		// ȻԭԴӣصʱȻԭ
+		// 先还原源格子，两区域重叠时，必需先还原
 		for (int r = 0; r < fromRect.getRowCount(); r++) {
 			for (int c = 0; c < fromRect.getColCount(); c++) {
 				nc = cellSet.newCell(r + 1, c + 1);
@@ -844,7 +844,7 @@ public class GMSpl extends GM {
 			}
 		}
 
-		// Ŀ
+		// 设置目标格子
 		for (int r = 0; r < toRect.getRowCount(); r++) {
 			for (int c = 0; c < toRect.getColCount(); c++) {
 				nc = (NormalCell) fromData.get(r, c);
@@ -859,7 +859,7 @@ public class GMSpl extends GM {
 			}
 		}
 
-		// ĿϣһԱʽ
+		// 目标格子设置完毕，重新整理一遍相对表达式
 		if (dr >= 0) {
 			if (dc >= 0) {
 				for (int r = toRect.getRowCount() - 1; r >= 0; r--) {
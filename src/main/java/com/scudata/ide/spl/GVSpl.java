@@ -11,37 +11,37 @@ import com.scudata.ide.spl.control.SplEditor;
 import com.scudata.ide.spl.dialog.DialogSearch;
 
 /**
- * IDEеĳ
+ * 集算器IDE中的常量
  *
  */
 public class GVSpl extends GV {
 	/**
-	 * ༭
+	 * 网格编辑器
 	 */
 	public static SplEditor splEditor = null;
 
 	/**
-	 * IDE½ǵĶǩؼ,ʽȱǩҳ
+	 * IDE右下角的多标签控件,有网格变量、表达式等标签页
 	 */
 	public static JTabbedParam tabParam = null;
 
 	/**
-	 * Ԫֵ
+	 * 单元格值面板
 	 */
 	public static PanelValue panelValue = null;
 
 	/**
-	 * ʽ
+	 * 网格表达式计算面板
 	 */
 	public static PanelSplWatch panelSplWatch = null;
 
 	/**
-	 * Ի
+	 * 搜索对话框
 	 */
 	public static DialogSearch searchDialog = null;
 
 	/**
-	 * ȡ˵
+	 * 取集算器菜单
 	 * 
 	 * @return
 	 */
@@ -51,7 +51,7 @@ public class GVSpl extends GV {
 	}
 
 	/**
-	 * ȡ
+	 * 取集算器工具栏
 	 * 
 	 * @return
 	 */
@@ -61,7 +61,7 @@ public class GVSpl extends GV {
 	}
 
 	/**
-	 * ȡԹ
+	 * 取属性工具栏
 	 * 
 	 * @return
 	 */
@@ -71,7 +71,7 @@ public class GVSpl extends GV {
 	}
 
 	/**
-	 * ȡ˵ļʱ
+	 * 取基础菜单（无文件打开时）
 	 * 
 	 * @return
 	 */
@@ -81,7 +81,7 @@ public class GVSpl extends GV {
 	}
 
 	/**
-	 * ȡļʱ
+	 * 取基础工具栏（无文件打开时）
 	 * 
 	 * @return
 	 */
@@ -12,39 +12,39 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ˵ļʱ
+ * 基础菜单（无文件打开时）
  *
  */
 public class MenuBase extends AppMenu {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	protected MessageManager mm = IdeSplMessage.get();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public MenuBase() {
 		init();
 	}
 
 	/**
-	 * ʼ˵
+	 * 初始化菜单
 	 */
 	protected void init() {
-		// ļ˵
+		// 文件菜单
 		add(getFileMenu());
 
-		// ߲˵
+		// 工具菜单
 		add(getToolMenu());
 
-		// ڲ˵
+		// 窗口菜单项
 		tmpLiveMenu = getWindowMenu();
 		add(tmpLiveMenu);
 
-		// ˵
+		// 帮助菜单项
 		add(getHelpMenu());
 
 		setEnable(getMenuItems(), false);
@@ -52,7 +52,7 @@ public class MenuBase extends AppMenu {
 	}
 
 	/**
-	 * ȡļ˵
+	 * 取文件菜单
 	 * 
 	 * @return JMenu
 	 */
@@ -75,7 +75,7 @@ public class MenuBase extends AppMenu {
 	}
 
 	/**
-	 * ȡ߲˵
+	 * 取工具菜单
 	 * 
 	 * @return JMenu
 	 */
@@ -103,7 +103,7 @@ public class MenuBase extends AppMenu {
 	}
 
 	/**
-	 * ȡпɱ״̬Ĳ˵
+	 * 取所有可变状态的菜单项
 	 */
 	public short[] getMenuItems() {
 		short[] menus = new short[] {};
@@ -111,7 +111,7 @@ public class MenuBase extends AppMenu {
 	}
 
 	/**
-	 * ԴӺ
+	 * 数据源连接后
 	 */
 	public void dataSourceConnected() {
 		if (GVSpl.tabParam != null)
@@ -15,7 +15,7 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ˵ļ
+ * 集算器菜单（打开文件后）
  *
  */
 public class MenuSpl extends AppMenu {
@@ -23,42 +23,42 @@ public class MenuSpl extends AppMenu {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	protected MessageManager mm = IdeSplMessage.get();
 	/**
-	 * в˵
+	 * 行列菜单
 	 */
 	protected JMenu menuRowCol;
 	/**
-	 * ͣ\ִв˵
+	 * 暂停\继续执行菜单
 	 */
 	protected JMenuItem pauseMenuItem;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public MenuSpl() {
 		init();
 	}
 
 	/**
-	 * ʼ˵
+	 * 初始化菜单
 	 */
 	protected void init() {
-		// ļ˵
+		// 文件菜单
 		add(getFileMenu());
-		// ༭˵
+		// 编辑菜单
 		add(getEditMenu());
-		// ˵
+		// 程序菜单
 		add(getProgramMenu());
-		// ߲˵
+		// 工具菜单
 		add(getToolMenu());
-		// ڲ˵
+		// 窗口菜单
 		tmpLiveMenu = getWindowMenu();
 		add(tmpLiveMenu);
 
-		// ˵
+		// 帮助菜单
 		add(getHelpMenu());
 
 		setEnable(getMenuItems(), false);
@@ -66,9 +66,9 @@ public class MenuSpl extends AppMenu {
 	}
 
 	/**
-	 * ļ˵
+	 * 文件菜单
 	 * 
-	 * @return ļ˵
+	 * @return 文件菜单
 	 */
 	protected JMenu getFileMenu() {
 		JMenu menu;
@@ -84,7 +84,7 @@ public class MenuSpl extends AppMenu {
 		menuTemp = newSplMenuItem(GCSpl.iFILE_REOPEN, GCSpl.FILE_REOPEN, 'R',
 				GC.NO_MASK, true);
 		menu.add(menuTemp);
-		// (char) KeyEvent.VK_F4 sͻ
+		// (char) KeyEvent.VK_F4 跟s冲突
 		menuTemp = newCommonMenuItem(GC.iFILE_CLOSE, GC.FILE_CLOSE, 'W',
 				ActionEvent.CTRL_MASK);
 		menu.add(menuTemp);
@@ -104,7 +104,7 @@ public class MenuSpl extends AppMenu {
 		menuTemp = newCommonMenuItem(GC.iSAVEALL, GC.SAVEALL, 'V', GC.NO_MASK,
 				true);
 		menu.add(menuTemp);
-		// ְ治ʾԶ̹
+		// 职场版不显示远程功能
 		menuTemp = newSplMenuItem(GCSpl.iSAVE_FTP, GCSpl.SAVE_FTP, 'P',
 				GC.NO_MASK, true);
 		menu.add(menuTemp);
@@ -122,9 +122,9 @@ public class MenuSpl extends AppMenu {
 	protected JMenu copyMenu, pasteMenu;
 
 	/**
-	 * ༭˵
+	 * 编辑菜单
 	 * 
-	 * @return ༭˵
+	 * @return 编辑菜单
 	 */
 	protected JMenu getEditMenu() {
 		JMenu menu = getSplMenuItem(GCSpl.EDIT, 'E', true);
@@ -152,7 +152,7 @@ public class MenuSpl extends AppMenu {
 		JMenuItem miCopyHtml = newSplMenuItem(GCSpl.iCOPY_HTML,
 				GCSpl.COPY_HTML, 'C', ActionEvent.ALT_MASK
 						+ ActionEvent.SHIFT_MASK);
-		miCopyHtml.setVisible(false); // ʾ˵ֻпݼ
+		miCopyHtml.setVisible(false); // 不显示菜单，只有快捷键
 		copyMenu.add(miCopyHtml);
 
 		copyMenu.add(newSplMenuItem(GCSpl.iCOPY_HTML_DIALOG,
@@ -270,9 +270,9 @@ public class MenuSpl extends AppMenu {
 	}
 
 	/**
-	 * ߲˵
+	 * 工具菜单
 	 * 
-	 * @return ߲˵
+	 * @return 工具菜单
 	 */
 	protected JMenu getToolMenu() {
 		JMenu menu = getSplMenuItem(GCSpl.TOOL, 'T', true);
@@ -304,9 +304,9 @@ public class MenuSpl extends AppMenu {
 	}
 
 	/**
-	 * ˵
+	 * 程序菜单
 	 * 
-	 * @return ˵
+	 * @return 程序菜单
 	 */
 	protected JMenu getProgramMenu() {
 		JMenu menu = getSplMenuItem(GCSpl.PROGRAM, 'P', true);
@@ -375,7 +375,7 @@ public class MenuSpl extends AppMenu {
 	}
 
 	/**
-	 * в˵Ƿ
+	 * 设置行列菜单是否可用
 	 * 
 	 * @param isEnabled
 	 */
@@ -383,20 +383,20 @@ public class MenuSpl extends AppMenu {
 		menuRowCol.setEnabled(isEnabled);
 	}
 
-	/** ִ */
+	/** 继续执行 */
 	private final String S_CONTINUE = mm.getMessage("menu.program.continue");
-	/** ͣ */
+	/** 暂停 */
 	private final String S_PAUSE = mm.getMessage("menu.program.pause");
 
-	/** ִͼ */
+	/** 继续执行图标 */
 	private final ImageIcon I_CONTINUE = GM.getMenuImageIcon(GCSpl.CONTINUE);
-	/** ͣͼ */
+	/** 暂停图标 */
 	private final ImageIcon I_PAUSE = GM.getMenuImageIcon(GCSpl.PAUSE);
 
 	/**
-	 * ͣ/ִв˵ıͼ
+	 * 重置暂停/继续执行菜单项的文本和图标
 	 * 
-	 * @param isPause Ƿͣtrueͣfalseִ
+	 * @param isPause 是否暂停。true暂停，false执行
 	 */
 	public void resetPauseMenu(boolean isPause) {
 		if (isPause) {
@@ -409,14 +409,14 @@ public class MenuSpl extends AppMenu {
 	}
 
 	/**
-	 * ȡпɱ״̬Ĳ˵
+	 * 取所有可变状态的菜单
 	 */
 	public short[] getMenuItems() {
 		short[] menus = new short[] {
-				// ļ
+				// 文件
 				GCSpl.iSAVE,
 				GCSpl.iSAVEAS,
-				// ༭
+				// 编辑
 				GCSpl.iUNDO, GCSpl.iREDO, GCSpl.iCOPY, GCSpl.iCOPYVALUE,
 				GCSpl.iCODE_COPY, GCSpl.iCOPY_HTML_DIALOG, GCSpl.iCUT,
 				GCSpl.iPASTE, GCSpl.iPASTE_ADJUST, GCSpl.iPASTE_SPECIAL,
@@ -434,7 +434,7 @@ public class MenuSpl extends AppMenu {
 				GCSpl.iMOVE_COPY_DOWN,
 				GCSpl.iMOVE_COPY_LEFT,
 				GCSpl.iMOVE_COPY_RIGHT,
-				// 
+				// 程序
 				GCSpl.iPARAM, GCSpl.iEXEC, GCSpl.iEXE_DEBUG, GCSpl.iCALC_AREA,
 				GCSpl.iCALC_LOCK, GCSpl.iSTEP_NEXT, GCSpl.iSTEP_CURSOR,
 				GCSpl.iSTOP, GCSpl.iSHOW_VALUE, GCSpl.iCLEAR_VALUE,
@@ -444,19 +444,19 @@ public class MenuSpl extends AppMenu {
 	}
 
 	/**
-	 * ȡв˵
+	 * 取所有菜单项
 	 * 
 	 * @return
 	 */
 	public short[] getAllMenuItems() {
 		short[] menus = new short[] {
-				// ļ
+				// 文件
 				GCSpl.iSAVE,
 				GCSpl.iSAVEAS,
 				GCSpl.iSAVEALL,
 				GCSpl.iFILE_REOPEN,
 				GCSpl.iSAVE_FTP,
-				// ༭
+				// 编辑
 				GCSpl.iUNDO, GCSpl.iREDO, GCSpl.iCOPY, GCSpl.iCOPYVALUE,
 				GCSpl.iCODE_COPY, GCSpl.iCOPY_HTML_DIALOG, GCSpl.iCUT,
 				GCSpl.iPASTE, GCSpl.iPASTE_ADJUST, GCSpl.iPASTE_SPECIAL,
@@ -474,7 +474,7 @@ public class MenuSpl extends AppMenu {
 				GCSpl.iMOVE_COPY_DOWN,
 				GCSpl.iMOVE_COPY_LEFT,
 				GCSpl.iMOVE_COPY_RIGHT,
-				// 
+				// 程序
 				GCSpl.iPARAM, GCSpl.iEXEC, GCSpl.iEXE_DEBUG, GCSpl.iRESET,
 				GCSpl.iCALC_AREA, GCSpl.iCALC_LOCK, GCSpl.iSTEP_NEXT,
 				GCSpl.iSTEP_CURSOR, GCSpl.iSTOP, GCSpl.iSHOW_VALUE,
@@ -486,7 +486,7 @@ public class MenuSpl extends AppMenu {
 	}
 
 	/**
-	 * ԴӺ
+	 * 数据源连接后
 	 */
 	public void dataSourceConnected() {
 		if (GVSpl.tabParam != null)
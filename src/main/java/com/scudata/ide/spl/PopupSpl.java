@@ -7,23 +7,23 @@ import javax.swing.event.PopupMenuListener;
 import com.scudata.ide.common.GV;
 
 /**
- * Ҽ˵
+ * 右键弹出菜单
  *
  */
 public class PopupSpl {
 	/**
-	 * ˵
+	 * 弹出菜单监听器
 	 */
 	PopupMenuListener listener = null;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public PopupSpl() {
 	}
 
 	/**
-	 * ӵ˵
+	 * 增加弹出菜单监听器
 	 * 
 	 * @param listener
 	 */
@@ -32,10 +32,10 @@ public class PopupSpl {
 	}
 
 	/**
-	 * ȡҼ˵
+	 * 取右键弹出菜单
 	 * 
 	 * @param selectStatus
-	 *            ѡ״̬GCSplжĳ
+	 *            网格选择的状态，GCSpl中定义的常量
 	 * @return
 	 */
 	public JPopupMenu getSplPop(byte selectStatus) {
@@ -4,7 +4,7 @@ import java.io.InputStream;
 import java.util.Scanner;
 
 /**
- * ȴ̣߳ڽProcessصϢ
+ * 等待线程，用于接受Process返回的信息
  */
 public class ProcessWatchThread extends Thread {
 	InputStream in;
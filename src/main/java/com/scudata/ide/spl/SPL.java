@@ -72,14 +72,14 @@ import com.scudata.ide.spl.resources.IdeSplMessage;
 import com.scudata.util.CellSetUtil;
 
 /**
- * IDE
+ * 集算器IDE的主界面类
  *
  */
 public class SPL extends AppFrame {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * MACϵͳʱDOCKͼ
+	 * MAC系统时，设置DOCK图标
 	 */
 	static {
 		try {
@@ -95,86 +95,86 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ָ
+	 * 主分隔面板
 	 */
 	private JSplitPane splitMain = new JSplitPane();
 
 	/**
-	 * 
+	 * 工具栏面板
 	 */
 	private JPanel barPanel = new JPanel();
 
 	/**
-	 * вָ
+	 * 中部分隔面板
 	 */
 	private JSplitPane splitCenter = new JSplitPane();
 
 	/**
-	 * ұ߷ָ
+	 * 右边分隔面板
 	 */
 	private JSplitPane splitEast = new JSplitPane();
 
 	/**
-	 * ±ǩʽ
+	 * 右下标签式面板
 	 */
 	private JTabbedParam tabParam;
 
 	/**
-	 * ˵
+	 * 菜单
 	 */
 	protected AppMenu currentMenu;
 
 	/**
-	 * 
+	 * 主滚动面板
 	 */
 	private JSplitPane spMain = new JSplitPane();
 
 	/**
-	 * ˳ʱǷرJVM
+	 * 退出时是否关闭JVM
 	 */
 	private boolean terminalVM = true;
 
 	/**
-	 * ԶӵԴ
+	 * 自动连接的数据源名称数组
 	 */
 	private String[] startDsNames = null;
 
 	/**
-	 * Դؼ
+	 * 资源树控件
 	 */
 	protected FileTree fileTree;
 
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	private MessageManager mm = IdeSplMessage.get();
 
 	/**
-	 * ļǷʼ
+	 * 文件树宽度是否初始化
 	 */
 	private boolean isInit = false;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public SPL() {
 		this(null);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param openFile ʱԶļ
+	 * @param openFile 启动时自动打开文件
 	 */
 	public SPL(String openFile) {
 		this(openFile, true);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param openFile            ʱԶļ
-	 * @param terminalVMwhileExit ˳ʱǷرJVM
+	 * @param openFile            启动时自动打开文件
+	 * @param terminalVMwhileExit 退出时是否关闭JVM
 	 */
 	public SPL(String openFile, boolean terminalVMwhileExit) {
 		super();
@@ -312,8 +312,8 @@ public class SPL extends AppFrame {
 				this.tabParam.consoleVisible(true);
 			}
 			splitCenter.setLeftComponent(jTPLeft);
-			// ļͿ̨
-			// tabǩļtabǩһֱڣס̨ȵĴᵽ
+			// 将文件树和控制台放在设计器的左侧
+			// 因tab标签增加文件树，tab标签会一直存在，将控住控制台宽度的代码提到外面
 			if (ConfigOptions.iConsoleLocation != null
 					&& ConfigOptions.iConsoleLocation.intValue() > -1) {
 				lastLeftLocation = ConfigOptions.iConsoleLocation.intValue();
@@ -375,7 +375,7 @@ public class SPL extends AppFrame {
 			GV.allFrames.add(this);
 
 			int width = splitCenter.getWidth();
-			if (isInit || lastLeftLocation == 0) { // ļǷʼ
+			if (isInit || lastLeftLocation == 0) { // 文件树宽度是否初始化
 				width = Math.round(width * 0.4f);
 			} else {
 				width = lastLeftLocation;
@@ -389,7 +389,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * Դ
+	 * 创建资源树
 	 */
 	protected void newResourceTree() {
 		fileTree = new FileTree();
@@ -397,7 +397,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ˵
+	 * 创建基础菜单
 	 * 
 	 * @return
 	 */
@@ -406,7 +406,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ༭˵
+	 * 创建编辑菜单
 	 * 
 	 * @return
 	 */
@@ -415,7 +415,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * SPL
+	 * 创建SPL工具条
 	 * @return
 	 */
 	protected ToolBarPropertyBase newToolBarProperty() {
@@ -423,7 +423,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * 鿴ֵ
+	 * 查看参数值
 	 * @param varName
 	 * @param val
 	 */
@@ -434,7 +434,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化界面
 	 */
 	private void initUI() {
 		this.setDefaultCloseOperation(DISPOSE_ON_CLOSE);
@@ -459,12 +459,12 @@ public class SPL extends AppFrame {
 		});
 	}
 
-	/** ̶߳ */
+	/** 线程对象 */
 	private ControlThread thread = null;
 	private static boolean resizeFuncWin = false;
 
 	/**
-	 * ʹ߳̽ƶʱ
+	 * 使用线程解决函数窗口移动时卡顿问题
 	 */
 	class ControlThread extends Thread {
 		public void run() {
@@ -483,7 +483,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ȡеĴļڶ
+	 * 取所有的打开文件窗口对象
 	 * 
 	 * @return
 	 */
@@ -492,7 +492,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ȡеҳ
+	 * 取所有的页标题
 	 * 
 	 * @return
 	 */
@@ -510,17 +510,17 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * رָҳ
+	 * 关闭指定页
 	 */
 	public boolean closeSheet(Object sheet) {
 		return closeSheet(sheet, true);
 	}
 
 	/**
-	 * رָҳ
+	 * 关闭指定页
 	 * 
-	 * @param sheet     ҳ
-	 * @param showSheet رպǷʾҳرȫҳʱӦfalse
+	 * @param sheet     页对象
+	 * @param showSheet 关闭后是否显示其他页。关闭全部页时应该用false
 	 * @return boolean
 	 */
 	public boolean closeSheet(Object sheet, boolean showSheet) {
@@ -529,18 +529,18 @@ public class SPL extends AppFrame {
 
 	/**
 	 * 
-	 *رָҳ
+	 *关闭指定页
 	 * 
-	 * @param sheet     ҳ
-	 * @param showSheet رպǷʾҳرȫҳʱӦfalse
-	 * @param isQuit Ƿ˳ʱõ
+	 * @param sheet     页对象
+	 * @param showSheet 关闭后是否显示其他页。关闭全部页时应该用false
+	 * @param isQuit 是否退出时调用的
 	 * @return boolean
 	 */
 	public boolean closeSheet(Object sheet, boolean showSheet, boolean isQuit) {
 		if (sheet == null) {
 			return false;
 		}
-		if (isQuit && sheet instanceof SheetSpl) { // رȫ
+		if (isQuit && sheet instanceof SheetSpl) { // 关闭全部
 			SheetSpl ss = (SheetSpl) sheet;
 			ss.close(true);
 		} else if (!((IPrjxSheet) sheet).close()) {
@@ -565,7 +565,7 @@ public class SPL extends AppFrame {
 					showSheet(frames[0], false);
 				}
 			} catch (Exception x) {
-				// Ҳʾľ
+				// 找不到可显示的就算啦
 			}
 			try {
 				((AppMenu) GV.appMenu).refreshRecentFileOnClose(sheetTitle,
@@ -580,7 +580,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * رȫҳ
+	 * 关闭全部页
 	 * @return boolean
 	 */
 	public boolean closeAll() {
@@ -588,8 +588,8 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 *  رȫҳ
-	 * @param isQuit Ƿ˳ʱ
+	 *  关闭全部页
+	 * @param isQuit 是否退出时触发的
 	 * @return
 	 */
 	public boolean closeAll(boolean isQuit) {
@@ -628,7 +628,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * Ƿ񱾵ļ
+	 * 是否本地文件
 	 * @param sheet
 	 * @return
 	 */
@@ -637,7 +637,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ˳
+	 * 程序退出
 	 */
 	public boolean exit() {
 		try {
@@ -654,7 +654,7 @@ public class SPL extends AppFrame {
 			}
 
 			if (fileTree != null && fileTree instanceof FileTree) {
-				// ˳ʱסδļĿ
+				// 退出时，记住本次打开文件树面板的宽度
 				((FileTree) fileTree).saveExpandState(splitCenter
 						.getDividerLocation());
 			}
@@ -715,14 +715,14 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ˳Զ
+	 * 退出自定义程序
 	 */
 	protected boolean exitCustom() {
 		return true;
 	}
 
 	/**
-	 * رҳ˳
+	 * 如果关闭了所有页，则退出。
 	 */
 	public void quit() {
 		if (closeAll(true)) {
@@ -731,7 +731,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ļ
+	 * 打开文件
 	 */
 	public JInternalFrame openSheetFile(String filePath) throws Exception {
 		synchronized (desk) {
@@ -747,7 +747,7 @@ public class SPL extends AppFrame {
 				}
 			}
 			ICellSet cs = null;
-			if (!StringUtils.isValidString(filePath)) { // ½
+			if (!StringUtils.isValidString(filePath)) { // 新建
 				String pre;
 				if (filePath == null) {
 					pre = GCSpl.PRE_NEWPGM;
@@ -756,9 +756,9 @@ public class SPL extends AppFrame {
 				}
 				filePath = GMSpl.getNewName(pre);
 			} else {
-				// ͬĲݣܻںӿո
+				// 不同的参数传递，可能会在后面多加空格
 				filePath = filePath.trim();
-				// ʱȨ
+				// 打开时检查权限
 				cs = readCellSet(filePath);
 				if (cs == null)
 					return null;
@@ -769,10 +769,10 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ҳ
+	 * 打开页面
 	 * 
-	 * @param filePath ļ·
-	 * @param cellSet  
+	 * @param filePath 文件路径
+	 * @param cellSet  网格对象
 	 * @return
 	 */
 	public synchronized JInternalFrame openSheet(String filePath, Object cellSet) {
@@ -780,7 +780,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ҳ
+	 * 创建网格页面
 	 * @param filePath
 	 * @param cs
 	 * @return
@@ -791,7 +791,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ҳ
+	 * 创建网格页面
 	 * @param filePath
 	 * @param cs
 	 * @param stepInfo
@@ -803,11 +803,11 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ҳ
+	 * 打开页面
 	 * 
-	 * @param filePath          ļ·
-	 * @param cellSet           
-	 * @param refreshRecentFile Ƿˢļ
+	 * @param filePath          文件路径
+	 * @param cellSet           网格对象
+	 * @param refreshRecentFile 是否刷新最近文件
 	 * @return
 	 */
 	public synchronized JInternalFrame openSheet(String filePath,
@@ -816,12 +816,12 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ҳ
+	 * 打开页面
 	 * 
-	 * @param filePath          ļ·
-	 * @param cellSet           
-	 * @param refreshRecentFile Ƿˢļ
-	 * @param stepInfo          ֲϢûеĴnull
+	 * @param filePath          文件路径
+	 * @param cellSet           网格对象
+	 * @param refreshRecentFile 是否刷新最近文件
+	 * @param stepInfo          分步调试信息。没有的传null
 	 * @return
 	 */
 	public synchronized JInternalFrame openSheet(String filePath,
@@ -863,14 +863,14 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ȡ
+	 * 读取网格
 	 * 
 	 * @param filePath
 	 * @return
 	 * @throws Exception
 	 */
 	public PgmCellSet readCellSet(String filePath) throws Exception {
-		// ˫·пո
+		// 从浏览器双击过来的路径含有空格符号
 		filePath = filePath.trim();
 		PgmCellSet cs = null;
 		String path = filePath.toLowerCase();
@@ -893,7 +893,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ȡļ
+	 * 读取网格文件
 	 * @param is
 	 * @return
 	 * @throws Exception
@@ -907,7 +907,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ѡȷϺˢ
+	 * 选项确认后刷新
 	 */
 	public void refreshOptions() {
 		try {
@@ -915,7 +915,7 @@ public class SPL extends AppFrame {
 					.refreshRecentMainPath(ConfigOptions.sMainPath);
 		} catch (Throwable e) {
 		}
-		fileTree.changeMainPath(ConfigOptions.sMainPath); // ˢԴĿ¼
+		fileTree.changeMainPath(ConfigOptions.sMainPath); // 刷新资源树主目录
 
 		if (ConfigOptions.bIdeConsole.booleanValue()) {
 			holdConsole();
@@ -930,14 +930,14 @@ public class SPL extends AppFrame {
 		if (GV.appSheet != null) {
 			GM.setCurrentPath(GV.appSheet.getSheetTitle());
 		}
-		// Զ
+		// 自动保存
 		autoSaveOption();
 	}
 
 	/**
-	 * ʾһҳ
+	 * 显示下一个页面
 	 * 
-	 * @param isCtrlDown ǷCTRL
+	 * @param isCtrlDown 是否按了CTRL键
 	 */
 	public void showNextSheet(boolean isCtrlDown) {
 		JInternalFrame[] frames = desk.getAllFrames();
@@ -971,7 +971,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * лб
+	 * 切换窗口列表
 	 */
 	public void switchWinList() {
 		ConfigOptions.bViewWinList = new Boolean(
@@ -987,65 +987,65 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ʾʱСSPLIT_GAPΪʱ״̬
+	 * 显示和隐藏面板时，小于SPLIT_GAP认为时收起状态
 	 */
 	private static int SPLIT_GAP = 50;
 
 	/**
-	 * ֮ǰλ
+	 * 之前左侧面板的位置
 	 */
 	private int lastLeftLocation;
 
 	/**
-	 * ʾ
+	 * 显示输出面板
 	 */
 	public void viewTabConsole() {
 		tabParam.consoleVisible(true);
 	}
 
 	/**
-	 * ʾ
+	 * 显示左侧面板
 	 */
 	public void viewLeft() {
 		int pos = splitCenter.getDividerLocation();
 		int width = splitCenter.getWidth();
-		if (pos <= 0 || (1 < pos && pos <= SPLIT_GAP)) { // ״̬չ
+		if (pos <= 0 || (1 < pos && pos <= SPLIT_GAP)) { // 收缩状态，展开
 			lastLeftLocation = lastLeftLocation == 0 ? Math.round(width * 0.4f)
 					: lastLeftLocation;
 			splitCenter.setDividerLocation(lastLeftLocation);
-		} else { // չ״̬
+		} else { // 展开状态，收缩
 			lastLeftLocation = pos;
 			splitCenter.setDividerLocation(0);
 		}
 	}
 
 	/**
-	 * ֮ǰҲλ
+	 * 之前右侧面板的位置
 	 */
 	private int lastRightLocation;
 
 	/**
-	 * ʾҲ
+	 * 显示右侧面板
 	 */
 	public void viewRight() {
 		int pos = splitMain.getDividerLocation();
 		int width = splitMain.getWidth();
-		if (width - pos <= SPLIT_GAP) { // ״̬չ
+		if (width - pos <= SPLIT_GAP) { // 收缩状态，展开
 			splitMain.setDividerLocation(lastRightLocation);
-		} else { // չ״̬
+		} else { // 展开状态，收缩
 			lastRightLocation = pos;
 			splitMain.setDividerLocation(width);
 		}
 	}
 
 	/**
-	 * õǰSPLҳִ״̬
+	 * 重置当前SPL工作页的执行状态
 	 */
 	public void resetRunStatus() {
 	}
 
 	/**
-	 * ļ
+	 * 打开最近文件
 	 */
 	public void startAutoRecent() {
 		if (StringUtils.isValidString(GV.directOpenFile)) {
@@ -1130,20 +1130,20 @@ public class SPL extends AppFrame {
 		}
 
 		if (!autoConnect) {
-			calcInitSpl(); // ԶʱӺټ
+			calcInitSpl(); // 有自动连接时，等连接后再计算
 		}
 
-		// Զ
+		// 自动保存
 		autoSaveOption();
 	}
 
 	/**
-	 * ǷԶԴ
+	 * 是否自动连接最近数据源连接
 	 */
 	private boolean autoConnect = false;
 
 	/**
-	 * ʼ
+	 * 计算初始化程序网格
 	 */
 	private void calcInitSpl() {
 		if (GV.config == null)
@@ -1154,7 +1154,7 @@ public class SPL extends AppFrame {
 				Context ctx = GMSpl.prepareParentContext();
 				ConfigUtil.calcInitSpl(splPath, ctx);
 			} catch (Throwable t) {
-				// ʼ{0}ʧܣ
+				// 计算初始化程序{0}失败：
 				GM.showException(t, true, null, IdeCommonMessage.get()
 						.getMessage("dfx.calcinitdfx", splPath));
 			}
@@ -1163,12 +1163,12 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ѾӵԴ
+	 * 已经连接的数据源数量
 	 */
 	private static Integer startDBCount = new Integer(0);
 
 	/**
-	 * Դ
+	 * 重置数据源环境
 	 */
 	private void resetDBEnv() {
 		synchronized (startDBCount) {
@@ -1182,7 +1182,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * 
+	 * 保存所有网格
 	 */
 	public boolean saveAll() {
 		JInternalFrame[] sheets = getAllInternalFrames();
@@ -1199,12 +1199,12 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * Զ
+	 * 自动保存所有网格
 	 */
 	public boolean autoSaveAll() {
-		// ļĿ¼
+		// 清理缓存文件目录
 		clearBackup();
-		// Զļ
+		// 保存自动保存文件名
 		saveAutoOpenFileNames();
 
 		JInternalFrame[] sheets = getAllInternalFrames();
@@ -1224,14 +1224,14 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ļĿ¼
+	 * 清理缓存文件目录
 	 */
 	private void clearBackup() {
 		File backupDir = new File(
 				GM.getAbsolutePath(ConfigOptions.sBackupDirectory));
 		if (!backupDir.exists()) {
 			backupDir.mkdirs();
-		} else { // ֮ǰļ
+		} else { // 清理之前缓存的文件
 			try {
 				File[] files = backupDir.listFiles();
 				if (files != null) {
@@ -1245,7 +1245,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * չҲ
+	 * 收缩展开右侧面板
 	 */
 	public void swapRightTab() {
 		if (splitMain.getDividerLocation() == splitMain
@@ -1257,7 +1257,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ˵͹
+	 * 更换菜单和工具栏
 	 */
 	public void changeMenuAndToolBar(JMenuBar menu, JToolBar toolBar) {
 		if (GV.appSheet == null) {
@@ -1272,13 +1272,13 @@ public class SPL extends AppFrame {
 		repaint();
 	}
 
-	/** С߶ */
+	/** 工具栏最小高度 */
 	private final int TOOL_MIN_LOCATION = 62;
-	/** ߶ */
+	/** 工具栏最大高度 */
 	private final int TOOL_MAX_LOCATION = 200;
 
 	/**
-	 * չ𹤾
+	 * 展开或收起工具栏
 	 */
 	public void setToolBarExpand() {
 		boolean isExt = isToolBarExpand();
@@ -1294,7 +1294,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * Ƿչ״̬
+	 * 工具栏是否展开状态
 	 * 
 	 * @return
 	 */
@@ -1304,14 +1304,14 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ͼƬ
+	 * 启动图片窗口
 	 */
 	public static DialogSplash splashWindow = null;
 
 	/**
-	 * ׼
+	 * 准备环境
 	 * 
-	 * @param args JVM
+	 * @param args JVM参数
 	 * @return
 	 * @throws Throwable
 	 */
@@ -1326,11 +1326,11 @@ public class SPL extends AppFrame {
 				+ "Example:\n"
 				+ "java com.scudata.ide.spl.SPL d:\\test.splx      Start IDE with default file d:\\test.splx\n";
 
-		if (args.length == 1) { // exe ĲȻһ
+		if (args.length == 1) { // exe 传来的参数仍然是一个长串
 			arg = args[0].trim();
 			if (arg.trim().indexOf(" ") > 0) {
-				if (arg.charAt(1) != ':') {// ·ļ [̷]:ͷ
-					// ΪһļʱҪתļոʱʹ
+				if (arg.charAt(1) != ':') {// 绝对路径的文件名总是 [盘符]:开头
+					// 如果参数仅仅为一个文件名时，不要做参数转换，当文件名包含空格时就错了
 					Section st = new Section(arg, ' ');
 					args = st.toStringArray();
 				}
@@ -1340,7 +1340,7 @@ public class SPL extends AppFrame {
 			for (int i = 0; i < args.length; i++) {
 				arg = args[i].toLowerCase();
 				if (arg.equalsIgnoreCase("com.scudata.ide.spl.SPL")) {
-					// bat򿪵ļǲ
+					// 用bat打开的文件，类名本身会是参数
 					continue;
 				}
 				if (!arg.startsWith("-")) {
@@ -1369,7 +1369,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ɹAPIõĳ
+	 * 可供API调用的程序主函数
 	 * 
 	 * @param args
 	 * @return
@@ -1384,9 +1384,9 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * 
+	 * 程序主函数
 	 * 
-	 * @param args JVM
+	 * @param args JVM参数
 	 */
 	public static void main(final String args[]) {
 		mainInit();
@@ -1396,7 +1396,7 @@ public class SPL extends AppFrame {
 				initLNF();
 				loadExtLibs();
 				try {
-					// ǰƷʱõǰм飬try棬쳣˳
+					// 当前产品启动时，调用当前行检查，并放在try里面，异常后退出
 					String openFile = prepareEnv(args);
 					SPL frame = new SPL(openFile);
 					showFrame(frame);
@@ -1413,7 +1413,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化设计器
 	 */
 	public static void mainInit() {
 		resetInstallDirectories();
@@ -1445,7 +1445,7 @@ public class SPL extends AppFrame {
 		ConfigFile sysConfig = ConfigFile.getSystemConfigFile();
 		String splashFile = null;
 		if (sysConfig != null) {
-			// ʾsplashͼƬӹͬһ
+			// 将显示splash图片和连接官网放在同一个界面中
 			splashFile = sysConfig.getAttrValue("splashFile");
 		}
 		if (StringUtils.isValidString(splashFile)) {
@@ -1470,7 +1470,7 @@ public class SPL extends AppFrame {
 		try {
 			ConfigFile sysConfig = ConfigFile.getSystemConfigFile();
 			if (sysConfig != null) {
-				// ϵͳжȡɫ͸
+				// 从系统配置中读取背景颜色和透明度
 				ConfigOptions.fileColor = sysConfig.getAttrValue("fileColor");
 				ConfigOptions.fileColorOpacity = sysConfig
 						.getAttrValue("fileColorOpacity");
@@ -1488,7 +1488,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ʼʽ
+	 * 初始化外观样式
 	 */
 	public static void initLNF() {
 		try {
@@ -1515,7 +1515,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ʾIDE
+	 * 显示IDE主面板
 	 * 
 	 * @param frame
 	 */
@@ -1541,7 +1541,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ȡ
+	 * 取输出面板
 	 * 
 	 * @return
 	 */
@@ -1550,7 +1550,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ڼ¼
+	 * 窗口激活事件
 	 * 
 	 * @param e
 	 */
@@ -1560,7 +1560,7 @@ public class SPL extends AppFrame {
 		GV.appMenu.resetLiveMenu();
 		GV.appMenu.resetPrivilegeMenu();
 
-		// ʱ鿴ǷⲿĸƣУڲ
+		// 激活时查看是否有外部的复制，如果有，则清除内部剪贴板
 		if (GV.cellSelection != null) {
 			Object clip = GV.cellSelection.systemClip;
 			if (clip != null && !clip.equals(GM.clipBoard())) {
@@ -1574,7 +1574,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ڹر
+	 * 窗口正在关闭
 	 * 
 	 * @param e
 	 */
@@ -1593,19 +1593,19 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * ȡƷ
+	 * 取产品名称
 	 */
 	public String getProductName() {
 		return IdeSplMessage.get().getMessage("dfx.productname");
 	}
 
 	/**
-	 * ԶĶʱ߳
+	 * 自动保存的定时线程
 	 */
 	private AutoSaveThread autoSaveThread;
 
 	/**
-	 * Զ
+	 * 处理自动保存
 	 */
 	private void autoSaveOption() {
 		if (ConfigOptions.bAutoSave) {
@@ -1614,7 +1614,7 @@ public class SPL extends AppFrame {
 				autoSaveThread.start();
 			}
 
-			// Զļ
+			// 保存自动保存文件名
 			saveAutoOpenFileNames();
 		} else {
 			if (autoSaveThread != null)
@@ -1624,7 +1624,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * Զļ
+	 * 保存自动保存文件名
 	 */
 	private void saveAutoOpenFileNames() {
 		JInternalFrame[] frames = desk.getAllFrames();
@@ -1649,7 +1649,7 @@ public class SPL extends AppFrame {
 	}
 
 	/**
-	 * Զ߳
+	 * 自动保存的线程
 	 *
 	 */
 	class AutoSaveThread extends Thread {
@@ -1661,7 +1661,7 @@ public class SPL extends AppFrame {
 
 		public void run() {
 			while (!isStopped) {
-				try { // ѡʱ
+				try { // 根据选项调整间隔时间
 					sleep(ConfigOptions.iAutoSaveMinutes.intValue() * 60 * 1000);
 				} catch (Exception e) {
 				}
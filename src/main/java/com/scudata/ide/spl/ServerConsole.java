@@ -36,32 +36,32 @@ import com.scudata.server.unit.ShutdownUnitServer;
 import com.scudata.server.unit.UnitServer;
 
 /**
- * ַֹͣѡ[a,x]ֻһϣѡĶ
- * ͼο̨ һѡҲûʱ̨
+ * 该类用于启动或停止各种服务，选项[a,x]只能有一项，其他可以组合，带选项的都是
+ * 启动非图形控制台 一个选项也没有时则是启动服务控制台程序
  * UnitServerConsole //java ServerConsole -a 
- * -p[ip:port] ڵ ʡip:portʱԶ˳Ѱһûռõã
- * -oodbc 
- * -h http 
- * -x[ip:port] ָֹͣʡip:portֹͣз
- * -a з
+ * -p[ip:port] 启动节点主进程 ，省略ip:port时，自动顺序寻找一个没被占用的配置；
+ * -o启动odbc 
+ * -h 启动http 
+ * -x[ip:port] 停止指定服务器，省略ip:port，停止本地所有服务
+ * -a 启动所有服务
  */
 public class ServerConsole {
 
 	/**
-	 * ڵļĬΪconfigĿ¼£·Ȼstart.homeµľ·
+	 * 节点机文件默认为config目录下；先找类路径，然后找start.home下的绝对路径
 	 * 
-	 * @param configFile ļ
+	 * @param configFile 配置文件名
 	 * @throws Exception
-	 * @return InputStream Ӧ
+	 * @return InputStream 对应的输入流
 	 */
 	public static InputStream getConfigIS(String configFile) throws Exception {
 		return UnitContext.getUnitInputStream(configFile);
 	}
 
 	/**
-	 * беķǷеķ
-	 * @param servers б
-	 * @return ֻҪеķͷtrue򷵻false
+	 * 返回列表中的服务器是否有正在运行的服务器
+	 * @param servers 服务器列表
+	 * @return 只要存在运行的服务器就返回true，否则返回false
 	 */
 	public static boolean isRunning(List<IServer> servers) {
 		for (IServer server : servers) {
@@ -80,8 +80,8 @@ public class ServerConsole {
 	}
 
 	/**
-	 * װǬļ
-	 * @return ļ
+	 * 装载润乾配置文件
+	 * @return 配置文件对象
 	 * @throws Exception
 	 */
 	private static RaqsoftConfig rc = null;
@@ -110,7 +110,7 @@ public class ServerConsole {
 	}
 	
 	/**
- * ۸ݲϵͳѡȡʵȱʡ
+ * 服务器的外观根据操作系统，选取合适的缺省外观
  */
 	public static void setDefaultLNF(){
 		String lnf;
@@ -131,8 +131,8 @@ public class ServerConsole {
 	
 	static UnitServerConsole webStartServer = null;
 	/**
-	 * ʹø÷webɽڵ
-	 * @return true
+	 * 使用该方法可以在web服务器集成节点机
+	 * @return 启动正常返回true
 	 * @throws Exception
 	 */
 	public static boolean startUnitServer() throws Exception{
@@ -146,8 +146,8 @@ public class ServerConsole {
 	}
 	
 	/**
-	 * õжϷǷѾ
-	 * @return зtrue򷵻false
+	 * 集成用的判断服务器是否已经运行
+	 * @return 运行中返回true，否则返回false
 	 */
 	public static boolean isUnitServerRunning(){
 		if(webStartServer!=null){
@@ -157,7 +157,7 @@ public class ServerConsole {
 	}
 	
 	/**
-	 * ãͣ
+	 * 集成用，关停服务器
 	 * @throws Exception
 	 */
 	public static void stopUnitServer() throws Exception{
@@ -179,29 +179,29 @@ public class ServerConsole {
 	}
 
 	/**
-	 * ̨ں
-	 * @param args ִв
+	 * 服务器控制台入口函数
+	 * @param args 执行参数
 	 */
 	public static void main(String[] args) {
 		boolean init = true;
 		
-		String usage = "ѡַֹͣ񣬸ʽΪ ServerConsole.sh -[options] -[options]...\r\n"
-				+ "ָĳѡӦʱͼλµĸ\r\n"
-				+ "ҲԲκѡʾ̨[ͼδڿ̨]\r\n"
-				+ "ѡ -a , -x ͬʱ֣ѡϡ\r\n\r\n"
-				+ "-p[ip:port]	ֻ ʡip:portʱԶ˳Ѱһûռõķֻá\r\n"
-				+ "-c port cfg	ʹcfgֹֻͣ ʡcfgʱֹֻͣ\r\n"
-				+ "-o	 ODBC \r\n"
-				+ "-h	 HTTP \r\n"
-				+ "-x[ip:port]	ָֹֻͣʡip:portʱֹͣз\r\n"
-				+ "-a	з\r\n"
-				+ "-?	ߴѡʱӡǰϢ\r\n\r\n"
-				+ " ʾServerConsole.sh -a  ȫ,൱ ServerConsole.sh -p -o -h\r\n\r\n"
-				+ " ʾServerConsole.sh -p 127.0.0.1:8281  ָipֻ\r\n\r\n"
-				+ " ʾServerConsole.sh -o  odbc\r\n\r\n"
+		String usage = "该类根据选项来启动或停止各种服务，格式为 ServerConsole.sh -[options] -[options]...\r\n"
+				+ "当指定了某种选项用于启动相应服务时，都是启动非图形环境下的该类服务。\r\n"
+				+ "也可以不带任何选项，表示启动服务控制台程序[图形窗口控制台]。\r\n"
+				+ "如下所有选项除了 -a , -x 不能同时出现，其他选项都可以组合。\r\n\r\n"
+				+ "-p[ip:port]	启动分机 ，当省略ip:port时，自动顺序寻找一个没被占用的分机配置。\r\n"
+				+ "-c port cfg	使用配置cfg启动或停止分机 ，当省略cfg时，则停止分机。\r\n"
+				+ "-o	启动 ODBC 服务。\r\n"
+				+ "-h	启动 HTTP 服务。\r\n"
+				+ "-x[ip:port]	停止指定分机。当省略ip:port时，停止本地启动的所有服务。\r\n"
+				+ "-a	启动所有服务。\r\n"
+				+ "-?	或者错误选项时，打印当前帮助信息。\r\n\r\n"
+				+ " 示例：ServerConsole.sh -a  启动全部服务,相当于 ServerConsole.sh -p -o -h\r\n\r\n"
+				+ " 示例：ServerConsole.sh -p 127.0.0.1:8281  启动指定ip分机\r\n\r\n"
+				+ " 示例：ServerConsole.sh -o  仅启动odbc服务\r\n\r\n"
 		;
 		
-		String usageEn = usage;//Ŀǰûз
+		String usageEn = usage;//目前没有翻译
 		String lang = Locale.getDefault().toString();
 		if(lang.equalsIgnoreCase("en")){
 			usage = usageEn;			
@@ -211,8 +211,8 @@ public class ServerConsole {
 		if (args.length == 1) { //
 			arg = args[0].trim();
 			if (arg.trim().indexOf(" ") > 0) {
-				if (arg.charAt(1) != ':') {// ·ļ [̷]:ͷ
-					// ΪһļʱҪתļոʱʹ xq 2017523
+				if (arg.charAt(1) != ':') {// 绝对路径的文件名总是 [盘符]:开头
+					// 如果参数仅仅为一个文件名时，不要做参数转换，当文件名包含空格时，就错了 xq 2017年5月23日
 					Section st = new Section(arg, ' ');
 					args = st.toStringArray();
 				}
@@ -221,7 +221,7 @@ public class ServerConsole {
 		
 		boolean printHelp = false;
 		boolean isP = false, isO = false, isH = false, isX = false, isC = false;
-		// -shost:port ڲ
+		// -shost:port 内部命令
 		boolean isS = false;
 		String host = null,cfgPath=null;
 		int port = 0;
@@ -229,7 +229,7 @@ public class ServerConsole {
 		if (args.length > 0) {
 			for (int i = 0; i < args.length; i++) {
 				arg = args[i];
-				if (arg.equalsIgnoreCase("com.scudata.ide.spl.ServerConsole")) { // bat򿪵ļǲ
+				if (arg.equalsIgnoreCase("com.scudata.ide.spl.ServerConsole")) { // 用bat打开的文件，类名本身会是参数
 					continue;
 				}
 				if (arg.equalsIgnoreCase("-a")) {
@@ -298,7 +298,7 @@ public class ServerConsole {
 					break;
 				}
 				if (arg.toLowerCase().startsWith("-c")) {
-					host = "127.0.0.1";//Ŀǰȱʡ
+					host = "127.0.0.1";//目前缺省
 					if(i+1<args.length){
 						String buf = args[i+1];
 						port = Integer.parseInt(buf);
@@ -317,7 +317,7 @@ public class ServerConsole {
 						try {
 							is = new FileInputStream( cfgPath );
 							SplServerConfig ssc = SplServerConfig.getCfg(is);
-							init = !StringUtils.isValidString( ssc.splConfig );//ָconfigֹڵconfig
+							init = !StringUtils.isValidString( ssc.splConfig );//如果指定了config，则阻止节点机的config加载
 							is.close();
 						} catch (Exception e) {
 							
@@ -326,7 +326,7 @@ public class ServerConsole {
 					}
 					break;
 				}
-				//κһѡʱ
+				//不是上面任何一种选项时
 				printHelp = true;
 			}
 		}
@@ -365,7 +365,7 @@ public class ServerConsole {
 			}
 			System.exit(0);
 		}
-		/***************************** رз ******************************/
+		/***************************** 关闭所有服务 ******************************/
 		if (isX) {
 			// UnitServer
 			try {
@@ -413,7 +413,7 @@ public class ServerConsole {
 			exit(3);
 		}
 
-		/***************************** ͼο̨ ******************************/
+		/***************************** 启动图形控制台 ******************************/
 		if (!isP && !isO && !isH) {
 			setDefaultLNF();
 			UnitServerConsole usc = new UnitServerConsole(null, 0);
@@ -421,11 +421,11 @@ public class ServerConsole {
 			return;
 		}
 
-		/***************************** ָ ******************************/
+		/***************************** 启动指定服务 ******************************/
 		Thread tp = null, to = null;
 		final ArrayList<InputStreamFlusher> flushers = new ArrayList<InputStreamFlusher>();
 
-		// ֻ
+		// 启动分机
 		if (isP) {
 			try {
 				UnitServer server = UnitServer.getInstance(host, port);
@@ -437,7 +437,7 @@ public class ServerConsole {
 			}
 		}
 		
-		// OdbcServer
+		// 启动OdbcServer
 		if (isO) {
 			try {
 				OdbcServer server = OdbcServer.getInstance();
@@ -449,7 +449,7 @@ public class ServerConsole {
 			}
 		}
 		
-		// HttpServer
+		// 启动HttpServer
 		SplxServerInIDE thServer = null;
 		if (isH) {
 			try {
@@ -89,92 +89,92 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CellSetUtil;
 
 /**
- * splļ༭
+ * 集算器spl文件编辑窗口
  *
  */
 public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * ؼ
+	 * 网格控件
 	 */
 	public SplControl splControl = null;
 	/**
-	 * ༭
+	 * 网格编辑器
 	 */
 	public SplEditor splEditor = null;
 
 	/**
-	 * Ҽ˵
+	 * 右键弹出菜单
 	 */
 	private PopupSpl popupSpl = null;
 
 	/**
-	 * ļ·
+	 * 文件路径
 	 */
 	protected String filePath = null;
 
 	/**
-	 * 
+	 * 上下文
 	 */
 	protected Context splCtx = new Context();
 
 	/**
-	 * ִʱӳǵԪִֵʱ䣨룩
+	 * 调试执行时间的映射表。键是单元格名，值是执行时间（毫秒）
 	 */
 	private Map<String, Long> debugTimeMap = new HashMap<String, Long>();
 
 	/**
-	 * ִеĵԪ
+	 * 正在执行的单元格坐标
 	 */
 	private transient CellLocation exeLocation = null;
 
 	/**
-	 * ѡ״̬
+	 * 网格选择的状态
 	 */
 	public byte selectState = GCSpl.SELECT_STATE_NONE;
 
 	/**
-	 * ԵϢ
+	 * 单步调试的信息
 	 */
 	public StepInfo stepInfo = null;
 
 	/**
-	 * Ƿж
+	 * 单步调试是否中断了
 	 */
 	public boolean isStepStop = false;
 	/**
-	 * Ƿж
+	 * 是否中断其他网格
 	 */
 	public boolean stepStopOther = false;
 
 	/**
-	 * ǰstepIntocall
+	 * 当前网格调用了stepInto的call对象
 	 */
 	protected Call stepCall = null;
 
 	/**
-	 * ߳
+	 * 计算的线程组
 	 */
 	private ThreadGroup tg = null;
 	/**
-	 * ߳
+	 * 线程数量
 	 */
 	private int threadCount = 0;
 	/**
-	 * ߳
+	 * 计算或调试线程
 	 */
 	protected transient DebugThread debugThread = null;
 	/**
-	 * ռ
+	 * 任务空间
 	 */
 	private JobSpace jobSpace;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param filePath ļ·
-	 * @param cs       
-	 * @param stepInfo ԵϢ
+	 * @param filePath 文件路径
+	 * @param cs       网格对象
+	 * @param stepInfo 单步调试的信息
 	 * @throws Exception
 	 */
 	public SheetSpl(String filePath, PgmCellSet cs, StepInfo stepInfo)
@@ -231,14 +231,14 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * SPL༭
+	 * 构造SPL编辑器
 	 */
 	protected SplEditor newSplEditor() {
 		return new SplEditor(this);
 	}
 
 	/**
-	 * ȡ
+	 * 取网格的上下文
 	 * 
 	 * @return
 	 */
@@ -247,12 +247,12 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * δʱѡһԪ
+	 * 初次打开时选择第一个单元格
 	 */
 	private boolean isInitSelect = true;
 
 	/**
-	 * ѡһԪ
+	 * 选择第一个单元格
 	 */
 	public void selectFirstCell() {
 		if (stepInfo != null)
@@ -270,7 +270,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ıļ
+	 * 导出网格到文本文件
 	 * 
 	 * @return
 	 */
@@ -305,10 +305,10 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	// }
 
 	/**
-	 * Զ
+	 * 自动保存
 	 */
 	public boolean autoSave() {
-		if (isNewGrid()) { // ½
+		if (isNewGrid()) { // 新建
 			File backupDir = new File(
 					GM.getAbsolutePath(ConfigOptions.sBackupDirectory));
 			if (!backupDir.exists()) {
@@ -329,26 +329,26 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * 
+	 * 保存
 	 */
 	public boolean save() {
-		if (isNewGrid()) { // ½
+		if (isNewGrid()) { // 新建
 			boolean hasSaveAs = saveAs();
 			if (hasSaveAs) {
 				storeBreakPoints();
-				if (stepInfo != null && isStepStop) { // ֮
+				if (stepInfo != null && isStepStop) { // 保存之后变成正常网格
 					stepInfo = null;
 					isStepStop = false;
 					stepStopOther = false;
 					if (sheets != null)
 						sheets.remove(this);
-					sheets = null; // ǰ֮ǰĵûй
+					sheets = null; // 当前网格与之前的单步调试没有关联了
 					resetRunState();
 				}
 			}
 			return hasSaveAs;
 		} else {
-			if (splControl.cellSet.isExecuteOnly()) // ı水ťǱȫпܵõ
+			if (splControl.cellSet.isExecuteOnly()) // 单独的保存按钮不会亮，但是保存全部有可能调用到
 				return false;
 			File f = new File(filePath);
 			if (f.exists() && !f.canWrite()) {
@@ -385,7 +385,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ϊ
+	 * 另存为
 	 */
 	public boolean saveAs() {
 		boolean isSplFile = AppUtil.isSPLFile(filePath);
@@ -400,7 +400,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 			if (StringUtils.isValidString(stepInfo.filePath))
 				path = stepInfo.filePath;
 		}
-		if (AppUtil.isSPLFile(path)) { // Ϊʱļȥ׺׺ѡú׺
+		if (AppUtil.isSPLFile(path)) { // 另存为时文件名去掉后缀，下拉后缀中选择该后缀
 			int index = path.lastIndexOf(".");
 			path = path.substring(0, index);
 		}
@@ -434,7 +434,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * 浽FTP
+	 * 保存到FTP
 	 */
 	private void saveFTP() {
 		if (!save())
@@ -445,7 +445,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ޸ļ
+	 * 修改文件名
 	 */
 	public void changeFileName(String newName) {
 		GV.appMenu.removeLiveMenu(filePath);
@@ -457,44 +457,44 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ˢ
+	 * 刷新
 	 */
 	public void refresh() {
 		refresh(false);
 	}
 
 	/**
-	 * ˢʱˢ²
+	 * 刷新时刷新参数
 	 */
 	public void refreshParams() {
 		refresh(false, true, true);
 	}
 
 	/**
-	 * ˢ
+	 * 刷新
 	 * 
-	 * @param keyEvent Ƿ񰴼¼
+	 * @param keyEvent 是否按键事件
 	 */
 	protected void refresh(boolean keyEvent) {
 		refresh(keyEvent, true);
 	}
 
 	/**
-	 * ˢ
+	 * 刷新
 	 * 
-	 * @param keyEvent       Ƿ񰴼¼
-	 * @param isRefreshState Ƿˢ״̬
+	 * @param keyEvent       是否按键事件
+	 * @param isRefreshState 是否刷新状态
 	 */
 	protected void refresh(boolean keyEvent, boolean isRefreshState) {
 		refresh(keyEvent, isRefreshState, false);
 	}
 
 	/**
-	 * ˢ
+	 * 刷新
 	 * 
-	 * @param keyEvent       Ƿ񰴼¼
-	 * @param isRefreshState Ƿˢ״̬
-	 * @param refreshParams  Ƿˢ²
+	 * @param keyEvent       是否按键事件
+	 * @param isRefreshState 是否刷新状态
+	 * @param refreshParams  是否刷新参数
 	 */
 	protected void refresh(boolean keyEvent, boolean isRefreshState,
 			boolean refreshParams) {
@@ -678,7 +678,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		md.setMenuEnabled(GCSpl.iVIEW_CONSOLE,
 				ConfigOptions.bIdeConsole.booleanValue());
 		if (stepInfo != null) {
-			// жϵԺ,ǰcall(spl)ʱ˵
+			// 中断单步调试以后,当前网格是call(spl)时菜单可用
 			if (!isStepStopCall()) {
 				md.setMenuEnabled(md.getAllMenuItems(), false);
 				GVSpl.appTool.setButtonEnabled(GCSpl.iCLEAR, false);
@@ -691,7 +691,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ƿ񵥲ֹͣ
+	 * 是否单步调试停止
 	 * 
 	 * @return
 	 */
@@ -702,14 +702,14 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȡ
+	 * 取标题
 	 */
 	public String getSheetTitle() {
 		return getFileName();
 	}
 
 	/**
-	 * ñ
+	 * 设置标题
 	 */
 	public void setSheetTitle(String filePath) {
 		this.filePath = filePath;
@@ -718,28 +718,28 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȡļ·
+	 * 取文件路径
 	 */
 	public String getFileName() {
 		return filePath;
 	}
 
 	/**
-	 * Զ߳
+	 * 自动计算线程
 	 */
 	private CalcCellThread calcCellThread = null;
 
 	/**
-	 * 㵱ǰ
+	 * 计算当前格
 	 */
 	public void calcActiveCell() {
 		calcActiveCell(true);
 	}
 
 	/**
-	 * 㵱ǰ
+	 * 计算当前格
 	 * 
-	 * @param lock Ƿ
+	 * @param lock 是否加锁
 	 */
 	public void calcActiveCell(boolean lock) {
 		splControl.getContentPanel().submitEditor();
@@ -759,7 +759,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ʽ
+	 * 计算表达式
 	 * @param expStr
 	 */
 	public Object calcExp(String expStr) {
@@ -769,7 +769,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ƶ
+	 * 移动区域
 	 * @param fromRect
 	 * @param toRect
 	 * @return
@@ -779,7 +779,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִеԪ
+	 * 执行单元格
 	 * @param row
 	 * @param col
 	 */
@@ -788,11 +788,11 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȡƬֵ
-	 * @param row Ԫ
-	 * @param col Ԫ
-	 * @param from ʼ
-	 * @param num ȡ
+	 * 获取序列序表片段值
+	 * @param row 单元格行
+	 * @param col 单元格列
+	 * @param from 起始行
+	 * @param num 取数数量
 	 */
 	protected Sequence getSegmentValue(int row, int col, int from, int num) {
 		INormalCell nc = splControl.cellSet.getCell(row, col);
@@ -807,42 +807,42 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ԫʽ仯
-	 * @param row к
-	 * @param col к
-	 * @param exp ӱʽ
+	 * 单元格表达式发生变化
+	 * @param row 行号
+	 * @param col 列号
+	 * @param exp 格子表达式
 	 */
 	protected void expChanged(int row, int col, String exp) {
 	}
 
 	/**
-	 * Ԫʽ仯
-	 * @param expMap keyǸvalueǵԪʽ
+	 * 单元格表达式批量发生变化
+	 * @param expMap key是格子名，value是单元格表达式
 	 */
 	protected void expChanged(Map<String, String> expMap) {
 	}
 
 	/**
-	 * Ԫ߳
+	 * 单元格计算的线程
 	 *
 	 */
 	class CalcCellThread extends Thread {
 		/**
-		 * Ԫ
+		 * 单元格坐标
 		 */
 		private CellLocation cl;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * 
-		 * @param cl Ԫ
+		 * @param cl 单元格坐标
 		 */
 		public CalcCellThread(CellLocation cl) {
 			this.cl = cl;
 		}
 
 		/**
-		 * ִм
+		 * 执行计算
 		 */
 		public void run() {
 			try {
@@ -873,9 +873,9 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ի
+	 * 弹出搜索对话框
 	 * 
-	 * @param replace boolean Ƿ滻Ի
+	 * @param replace boolean 是否是替换对话框
 	 */
 	public void dialogSearch(boolean replace) {
 		if (GVSpl.searchDialog == null) {
@@ -886,9 +886,9 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ΪXMLNodeֻſͷ
+	 * 因为XML的Node命名规则不能数字或者特殊符号开头
 	 * 
-	 * @param name ڵ
+	 * @param name 节点名
 	 * @return
 	 */
 	private String getBreakPointNodeName(String nodeName) {
@@ -899,7 +899,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ضϵ
+	 * 加载断点
 	 */
 	private void loadBreakPoints() {
 		ConfigFile cf = null;
@@ -924,28 +924,28 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ֹϵ
+	 * 阻止保存断点
 	 */
 	private boolean preventStoreBreak = false;
 
 	/**
-	 * ϵ
+	 * 保存断点
 	 */
 	private void storeBreakPoints() {
 		storeBreakPoints(null, filePath);
 	}
 
 	/**
-	 * ϵ
+	 * 保存断点
 	 * 
-	 * @param oldName  ɽڵ
-	 * @param filePath ·
+	 * @param oldName  旧节点名
+	 * @param filePath 新路径
 	 */
 	private void storeBreakPoints(String oldName, String filePath) {
 		if (preventStoreBreak) {
 			return;
 		}
-		// δ״̬,*Ųܵ xml Key
+		// 未保存状态不存了,*符号不能当 xml 的Key
 		if (filePath.endsWith("*")) {
 			return;
 		}
@@ -981,7 +981,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * û
+	 * 重置环境
 	 */
 	public void reset() {
 		if (debugThread != null) {
@@ -1000,7 +1000,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִ
+	 * 执行
 	 */
 	public void run() {
 		if (!prepareStart()) {
@@ -1015,7 +1015,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִл߳
+	 * 创建执行或调试线程
 	 */
 	protected void createDebugThread(boolean isDebugMode) {
 		threadCount++;
@@ -1028,14 +1028,14 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * 
+	 * 设置网格变量
 	 * @param pl
 	 */
 	protected void setContextParams(ParamList pl) {
 	}
 
 	/**
-	 * Ƿ񵥲ԵӴڡtrueǵԽ򿪵ļfalse½ߴļ򿪵ļ
+	 * 是否单步调试的子窗口。true是调试进入打开的文件，false是新建或者从文件打开的文件
 	 * 
 	 * @return
 	 */
@@ -1044,9 +1044,9 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִ
+	 * 调试执行
 	 * 
-	 * @param debugType Էʽ
+	 * @param debugType 调试方式
 	 */
 	public void debug(byte debugType) {
 		synchronized (threadLock) {
@@ -1068,7 +1068,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ͣ߼ִ
+	 * 暂停或者继续执行
 	 */
 	public synchronized void pause() {
 		synchronized (threadLock) {
@@ -1083,7 +1083,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִе׼
+	 * 执行的准备工作
 	 * 
 	 * @return
 	 */
@@ -1110,7 +1110,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִǰ
+	 * 执行前调整界面
 	 */
 	protected void beforeRun() {
 		splControl.contentView.submitEditor();
@@ -1124,7 +1124,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ֵǷ仯
+	 * 值是否发生变化了
 	 * @param cellId
 	 * @return
 	 */
@@ -1147,9 +1147,9 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * õԪֵ
+	 * 设置单元格值
 	 * @param value
-	 * @param caseLock Ƿ״̬
+	 * @param caseLock 是否考虑锁定状态
 	 */
 	protected void setValue(INormalCell nc, boolean caseLock) {
 		Object value = nc.getValue();
@@ -1161,7 +1161,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȡԪֵ
+	 * 取单元格值
 	 * @param nc
 	 * @return
 	 */
@@ -1170,16 +1170,16 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ƿļֹ2δ
+	 * 单步调试是否打开了子文件。防止2次打开
 	 */
 	private boolean subSheetOpened = false;
 	/**
-	 * Եҳб˳
+	 * 单步调试的子页列表，有顺序的
 	 */
 	public List<SheetSpl> sheets = null;
 
 	/**
-	 * ȡҳ
+	 * 取父页对象
 	 * 
 	 * @return
 	 */
@@ -1198,7 +1198,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȡҳ
+	 * 取子页对象
 	 * 
 	 * @return
 	 */
@@ -1217,10 +1217,10 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ժ󣬽ҳִн
+	 * 单步调试后，接受子页执行结果
 	 * 
-	 * @param returnVal   ֵ
-	 * @param continueRun Ƿִ
+	 * @param returnVal   返回值
+	 * @param continueRun 是否继续执行
 	 */
 	public void acceptResult(final Object returnVal, final boolean continueRun) {
 		SwingUtilities.invokeLater(new Runnable() {
@@ -1267,9 +1267,9 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ֹͣ
+	 * 单步调试停止
 	 * 
-	 * @param stopOther Ƿֹͣҳ
+	 * @param stopOther 是否停止其他页
 	 */
 	public void stepStop(boolean stopOther) {
 		stepStopOther = stopOther;
@@ -1277,14 +1277,14 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִе
+	 * 执行到光标
 	 */
 	protected void stepCursor() {
 		debug(DebugThread.CURSOR);
 	}
 
 	/**
-	 * ȡб
+	 * 取网格变量列表
 	 * @return ParamList
 	 */
 	protected ParamList getContextParamList() {
@@ -1292,7 +1292,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȡռб
+	 * 取任务空间变量列表
 	 * @return HashMap<String, Param[]>
 	 */
 	protected HashMap<String, Param[]> listSpaceParams() {
@@ -1300,7 +1300,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȡȫֱб
+	 * 取全局变量列表
 	 * @return ParamList
 	 */
 	protected ParamList getEnvParamList() {
@@ -1308,7 +1308,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȡռȫֱ
+	 * 取网格、任务空间和全局变量
 	 * @return
 	 */
 	protected Object[] getAllParams() {
@@ -1320,7 +1320,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * 
+	 * 重置网格
 	 */
 	protected void resetCellSet() {
 		if (splCtx != null) {
@@ -1343,7 +1343,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִһ
+	 * 执行下一格
 	 * @param cellSet
 	 * @return
 	 */
@@ -1352,16 +1352,16 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Է
+	 * 单步调试返回
 	 */
 	protected void stepReturn() {
 		debug(DebugThread.STEP_RETURN);
 	}
 
 	/**
-	 * ִ
-	 * @param cellSet 
-	 * @return һҪִе꣬nullʾִˡ
+	 * 执行网格
+	 * @param cellSet 网格对象
+	 * @return 返回下一个要执行的坐标，null表示网格执行完了。
 	 */
 	protected CellLocation runCellSet(PgmCellSet cellSet) {
 		cellSet.run();
@@ -1373,21 +1373,21 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * жִ
+	 * 中断执行
 	 */
 	protected void interruptCellSet(PgmCellSet cellSet) {
 		cellSet.interrupt();
 	}
 
 	/**
-	 * Խ
+	 * 单步调试进入
 	 * @param pnc
 	 */
 	protected void stepInto(PgmNormalCell pnc) {
 		Expression exp = pnc.getExpression();
 		if (exp != null) {
 			CallInfo ci = null;
-			CellLocation exeCellLocation = null; // ʼ
+			CellLocation exeCellLocation = null; // 子网开始计算的坐标
 			CellLocation funcLocation = null;
 			PgmCellSet subCellSet = null;
 			int endRow = -1;
@@ -1395,16 +1395,16 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 			Node home = exp.getHome();
 			byte stepType = StepInfo.TYPE_CALL;
 			String filePath = null;
-			if (home instanceof Call) { // call
+			if (home instanceof Call) { // call函数
 				call = (Call) home;
 				this.stepCall = call;
 				subCellSet = call.getCallPgmCellSet(splCtx);
 				subCellSet.setCurrent(subCellSet.getPgmNormalCell(1, 1));
-				subCellSet.setNext(1, 1, true); // Ӹʼִ
+				subCellSet.setNext(1, 1, true); // 从子格开始执行
 				filePath = call.getDfxPathName(splCtx);
-			} else if (home instanceof Func) { // Func
+			} else if (home instanceof Func) { // Func块
 				stepType = StepInfo.TYPE_FUNC;
-				// FuncʹΪֵ֧ݹ
+				// Func使用新网是为了支持递归
 				Func func = (Func) home;
 				ci = func.getCallInfo(splCtx);
 				PgmCellSet cellSet = ci.getPgmCellSet();
@@ -1425,7 +1425,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 					throw new RQException(mm.getMessage("engine.callNeedSub"));
 				}
 
-				// ĸ
+				// 共享函数体外的格子
 				subCellSet = cellSet.newCalc();
 				endRow = cellSet.getCodeBlockEndRow(row, col);
 				for (int r = row; r <= endRow; ++r) {
@@ -1438,7 +1438,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 				}
 				int colCount = subCellSet.getColCount();
 
-				// Ѳֵ赽funcԪϼĸ
+				// 把参数值设到func单元格上及后面的格子
 				if (args != null) {
 					int paramRow = row;
 					int paramCol = col;
@@ -1453,13 +1453,13 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 					}
 				}
 				subCellSet.setCurrent(subCellSet.getPgmNormalCell(row, col));
-				subCellSet.setNext(row, col + 1, false); // Ӹʼִ
+				subCellSet.setNext(row, col + 1, false); // 从子格开始执行
 				exeCellLocation = new CellLocation(row, col + 1);
 				funcLocation = new CellLocation(ci.getRow(), ci.getCol());
 
-				if (stepInfo == null) { // ǰ
+				if (stepInfo == null) { // 当前是主程序
 					filePath = this.filePath;
-				} else { // ǰӳ򣬴һȡ
+				} else { // 当前是子程序，从上一步中取
 					filePath = stepInfo.filePath;
 				}
 			} else {
@@ -1486,9 +1486,9 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ƿ񷵻ظ
-	 * @param cell Ԫ
-	 * @return Ƿ񷵻ظ
+	 * 是否返回格
+	 * @param cell 单元格对象
+	 * @return 是否返回格
 	 */
 	protected boolean isReturnCell(PgmNormalCell cell) {
 		Command cmd = cell.getCommand();
@@ -1496,11 +1496,11 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * 㷵ֵ
-	 * @param cellSet 
-	 * @param cell Ԫ
-	 * @param ctx 
-	 * @return ֵ
+	 * 计算返回值
+	 * @param cellSet 网格对象
+	 * @param cell 单元格对象
+	 * @param ctx 上下文
+	 * @return 返回值
 	 */
 	protected Object calcReturnValue(PgmCellSet cellSet, PgmNormalCell cell,
 			Context ctx) {
@@ -1515,15 +1515,15 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Խҳ
+	 * 单步调试进入打开子页
 	 * 
-	 * @param parentLocation  callfuncڸ
-	 * @param stepType	StepInfoж
-	 * @param subCellSet    
-	 * @param funcLocation func
-	 * @param exeLocation ʼ
-	 * @param endRow        
-	 * @param filePath     ļ
+	 * @param parentLocation  call或者func函数在父网坐标
+	 * @param stepType	类型在StepInfo中定义
+	 * @param subCellSet    子网格对象
+	 * @param funcLocation func的坐标
+	 * @param exeLocation 子网开始计算的坐标
+	 * @param endRow        子网结束行
+	 * @param filePath     文件名
 	 */
 	public void openSubSheet(CellLocation parentLocation, byte stepType,
 			final PgmCellSet subCellSet, CellLocation funcLocation,
@@ -1548,9 +1548,9 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		final StepInfo stepInfo = new StepInfo(sheets, stepType);
 		// if (stepType == StepInfo.TYPE_CALL) { // call spl
 		// stepInfo.filePath = call.getDfxPathName(splCtx);
-		// } else if (SheetSpl.this.stepInfo == null) { // ǰ
+		// } else if (SheetSpl.this.stepInfo == null) { // 当前是主程序
 		// stepInfo.filePath = filePath;
-		// } else { // ǰӳ򣬴һȡ
+		// } else { // 当前是子程序，从上一步中取
 		// stepInfo.filePath = SheetSpl.this.stepInfo.filePath;
 		// }
 		stepInfo.filePath = filePath;
@@ -1575,17 +1575,17 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִ߳
+	 * 执行线程
 	 *
 	 */
 	class RunThread extends DebugThread {
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * 
-		 * @param tg          ߳
-		 * @param name        ߳
-		 * @param isDebugMode Ƿģʽ
+		 * @param tg          线程组
+		 * @param name        线程名称
+		 * @param isDebugMode 是否调试模式
 		 */
 		public RunThread(ThreadGroup tg, String name) {
 			super(tg, name);
@@ -1593,7 +1593,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ִ
+		 * 执行
 		 */
 		public void run() {
 			runState = RUN;
@@ -1617,7 +1617,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 					long runStart = System.currentTimeMillis();
 					exeLocation = runCellSet(curCellSet);
 					long runEnd = System.currentTimeMillis();
-					// {0}ɣʱ{1}롣
+					// {0}计算完成，总用时：{1}毫秒。
 					Logger.debug(IdeSplMessage.get().getMessage(
 							"sheetspl.runtime", filePath, runEnd - runStart));
 				} while (exeLocation != null);
@@ -1635,7 +1635,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ͣ
+		 * 暂停
 		 */
 		public void pause() {
 			super.pause();
@@ -1643,7 +1643,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ִ
+		 * 继续执行
 		 */
 		public void continueRun() {
 			runState = RUN;
@@ -1653,66 +1653,66 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ߳
+	 * 调试线程
 	 *
 	 */
 	class DebugThread extends Thread {
 		/**
-		 * Ƿģʽ
+		 * 是否调试模式
 		 */
 		protected boolean isDebugMode = true;
 
-		/** ִ */
+		/** 执行完成 */
 		static final byte FINISH = 0;
-		/** ִ */
+		/** 正在执行 */
 		static final byte RUN = 1;
-		/** ִͣ */
+		/** 暂停执行 */
 		static final byte PAUSING = 2;
-		/** ִбͣ */
+		/** 执行被暂停了 */
 		static final byte PAUSED = 3;
 		/**
-		 * ִе״̬
+		 * 执行的状态
 		 */
 		protected Byte runState = FINISH;
 
-		/** ִ */
+		/** 调试执行 */
 		static final byte DEBUG = 1;
-		/** ִе */
+		/** 执行到光标 */
 		static final byte CURSOR = 2;
-		/**  */
+		/** 单步调试 */
 		static final byte STEP_OVER = 3;
-		/** Խ */
+		/** 单步调试进入 */
 		static final byte STEP_INTO = 4;
-		/** Է */
+		/** 单步调试返回 */
 		static final byte STEP_RETURN = 5;
-		/** ̵ֻ߳ȴʲô */
+		/** 只是启动线程等待，什么都不干 */
 		static final byte STEP_INTO_WAIT = 6;
-		/** Էغִ */
+		/** 单步调试返回后继续执行 */
 		static final byte STEP_RETURN1 = 7;
-		/** ֹͣ */
+		/** 单步调试停止 */
 		static final byte STEP_STOP = 8;
 		/**
-		 * Էʽ
+		 * 调试方式
 		 */
 		protected byte debugType = DEBUG;
 		/**
-		 * Ƿͣ
+		 * 是否暂停了
 		 */
 		protected Boolean isPaused = Boolean.FALSE;
 		/**
-		 * ǰ
+		 * 当前格的坐标
 		 */
 		protected CellLocation clCursor = null;
 		/**
-		 * ǰ
+		 * 当前网格对象
 		 */
 		protected PgmCellSet curCellSet;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * 
-		 * @param tg          ߳
-		 * @param name        ߳
+		 * @param tg          线程组
+		 * @param name        线程名称
 		 */
 		public DebugThread(ThreadGroup tg, String name) {
 			super(tg, name);
@@ -1720,7 +1720,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ִ
+		 * 执行
 		 */
 		public void run() {
 			runState = RUN;
@@ -1762,7 +1762,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 								}
 							}
 						}
-						// Խ
+						// 单步调试进入
 						if (debugType == STEP_INTO) {
 							if (!subSheetOpened) {
 								if (pnc != null) {
@@ -1783,7 +1783,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 								}
 							}
 						} else if (debugType == STEP_RETURN) {
-							isDebugMode = false; // һֱ
+							isDebugMode = false; // 一直跑完
 							debugType = STEP_RETURN1;
 						} else if (debugType == STEP_STOP) {
 							isStepStop = true;
@@ -1794,12 +1794,12 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 											sheet.stepStop(false);
 									}
 							}
-							return; // ֱӽ߳
+							return; // 直接结束计算线程
 						} else {
 							if (pnc != null) {
 								if (stepInfo != null) {
-									// Խʱظ
-									if (stepInfo.endRow > -1) // funcߵ
+									// 单步调试进入时，遇到返回格
+									if (stepInfo.endRow > -1) // func才走到这里
 										if (isReturnCell(pnc)) {
 											hasReturn = true;
 											returnVal = calcReturnValue(
@@ -1848,13 +1848,13 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 					resetRunState(false, true);
 				GVSpl.panelSplWatch.watch();
 				closeRunThread();
-				// ӳ򣬼ɺرյǰʾҳ
+				// 如果是子程序，计算完成后关闭当前网格，显示父页面
 				SheetSpl parentSheet = getParentSheet();
-				if (stepInfo != null && !isStepStop) { // жӳͲٷֵ
+				if (stepInfo != null && !isStepStop) { // 如果中断子程序就不再返回值了
 					if (!isThreadDeath) {
 						if (returnVal == null && !hasReturn) {
 							if (stepInfo.endRow > -1) {
-								// δreturnȱʡشһֵ
+								// 未碰到return缺省返回代码块中最后一个计算格值
 								int endRow = stepInfo.endRow;
 								// CallInfo ci = stepInfo.callInfo;
 								CellLocation funcLocation = stepInfo.funcLocation;
@@ -1881,7 +1881,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 				}
 				if (!isStepStop) {
 					if (sheets != null) {
-						if (parentSheet == null) // sheets
+						if (parentSheet == null) // 主网清理sheets
 							sheets = null;
 					}
 				}
@@ -1889,7 +1889,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * 
+		 * 单步调试完成
 		 */
 		protected void stepFinish() {
 			isPaused = Boolean.TRUE;
@@ -1898,7 +1898,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ϵ
+		 * 检查断点
 		 * 
 		 * @return
 		 */
@@ -1935,7 +1935,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ͣ
+		 * 暂停
 		 */
 		public void pause() {
 			runState = PAUSING;
@@ -1943,7 +1943,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ȡִ״̬
+		 * 取执行状态
 		 * 
 		 * @return
 		 */
@@ -1952,7 +1952,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * õ
+		 * 设置调试类型
 		 * 
 		 * @param debugType
 		 */
@@ -1969,16 +1969,16 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ִ
+		 * 继续执行
 		 */
 		public void continueRun() {
 			continueRun(DEBUG);
 		}
 
 		/**
-		 * ִ
+		 * 继续执行
 		 * 
-		 * @param debugType Էʽ
+		 * @param debugType 调试方式
 		 */
 		public void continueRun(byte debugType) {
 			runState = RUN;
@@ -1988,7 +1988,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ر߳
+		 * 关闭线程
 		 */
 		public void closeThread() {
 			pause();
@@ -1997,7 +1997,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ƿ񷵻
+	 * 是否返回
 	 * @param cellSet
 	 * @return
 	 */
@@ -2010,7 +2010,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * رҳ¼ʱرռ
+	 * 关闭页面或者重新计算时，关闭任务空间
 	 */
 	protected void closeSpace() {
 		if (jobSpace != null)
@@ -2018,7 +2018,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ɻжϺռԴ
+	 * 任务完成或中断后，清理任务空间的资源，保留任务变量
 	 */
 	protected void closeResource() {
 		if (jobSpace != null)
@@ -2026,7 +2026,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ߳쳣
+	 * 线程抛异常
 	 * 
 	 * @param ex
 	 */
@@ -2040,7 +2040,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִв˵״̬Ϊãֹ
+	 * 执行菜单状态改为不可用，防止多次运行
 	 */
 	private void preventRun() {
 		setMenuToolEnabled(new short[] { GCSpl.iEXEC, GCSpl.iEXE_DEBUG,
@@ -2049,17 +2049,17 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִв˵״̬
+	 * 重置执行菜单状态
 	 */
 	public void resetRunState() {
 		resetRunState(false, false);
 	}
 
 	/**
-	 * ִв˵״̬
+	 * 重置执行菜单状态
 	 * 
-	 * @param isRefresh Ƿˢ·õ
-	 * @param afterRun  Ƿִнõ
+	 * @param isRefresh 是否刷新方法调用的
+	 * @param afterRun  是否执行结束调用的
 	 */
 	private synchronized void resetRunState(final boolean isRefresh,
 			final boolean afterRun) {
@@ -2071,7 +2071,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ļǷԱ༭
+	 * 网格文件是否可以编辑
 	 * @return
 	 */
 	public boolean isCellSetEditable() {
@@ -2079,10 +2079,10 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִв˵״̬߳
+	 * 重置执行菜单状态线程
 	 * 
-	 * @param isRefresh Ƿˢ·õ
-	 * @param afterRun  Ƿִнõ
+	 * @param isRefresh 是否刷新方法调用的
+	 * @param afterRun  是否执行结束调用的
 	 */
 	private synchronized void resetRunStateThread(boolean isRefresh,
 			boolean afterRun) {
@@ -2095,7 +2095,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 					GCSpl.iSTEP_CURSOR, GCSpl.iSTEP_NEXT, GCSpl.iSTEP_INTO,
 					GCSpl.iCALC_AREA, GCSpl.iCALC_LOCK, GCSpl.iSTEP_RETURN,
 					GCSpl.iSTEP_STOP, GCSpl.iPAUSE }, false);
-			setMenuToolEnabled(new short[] { GCSpl.iSTOP }, true); // ֻж
+			setMenuToolEnabled(new short[] { GCSpl.iSTOP }, true); // 只能中断了
 			boolean editable = isCellSetEditable();
 			if (!isRefresh) {
 				splEditor.getComponent().getContentPanel()
@@ -2227,7 +2227,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ǷԵԽ
+	 * 是否可以调试进入
 	 * 
 	 * @return
 	 */
@@ -2253,12 +2253,12 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ʹú͹رռ߳ʱҪʹô
+	 * 使用和关闭计算线程时需要使用此锁。
 	 */
 	private byte[] threadLock = new byte[0];
 
 	/**
-	 * رִк͵߳
+	 * 关闭执行和调试线程
 	 */
 	private void closeRunThread() {
 		synchronized (threadLock) {
@@ -2267,7 +2267,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ò˵͹Ƿ
+	 * 设置菜单和工具栏是否可用
 	 * 
 	 * @param ids
 	 * @param enabled
@@ -2281,10 +2281,10 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִֹͣ
+	 * 停止执行
 	 */
 	public synchronized void terminate() {
-		if (sheets != null) { // Խ
+		if (sheets != null) { // 单步调试进入
 			int count = sheets.size();
 			for (int i = 0; i < count; i++) {
 				SheetSpl sheet = sheets.get(i);
@@ -2296,7 +2296,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 				}
 			}
 			SheetSpl sheetParent = sheets.get(0);
-			if (sheetParent != null) { // ʾյĸ
+			if (sheetParent != null) { // 显示最终的父程序
 				try {
 					sheetParent.stepInfo = null;
 					GV.appFrame.showSheet(sheetParent);
@@ -2311,10 +2311,10 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִֹͣеǰҳ
+	 * 停止执行当前页
 	 */
 	public synchronized void terminateSelf() {
-		// ˳Ϊɱ̺߳ͷԴ
+		// 顺序改为先杀线程后释放资源
 		Thread t = new Thread() {
 			public void run() {
 				synchronized (threadLock) {
@@ -2387,7 +2387,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ʽ
+	 * 设置网格表达式
 	 * 
 	 * @param exps
 	 */
@@ -2402,21 +2402,21 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ʾԪֵ
+	 * 显示单元格值
 	 */
 	public void showCellValue() {
 		splEditor.showCellValue();
 	}
 
 	/**
-	 * һִи
+	 * 上一个执行格坐标
 	 */
 	private CellLocation lastLocation = null;
 
 	/**
-	 * ִи
+	 * 设置执行格坐标
 	 * 
-	 * @param cl 
+	 * @param cl 坐标
 	 */
 	private void setExeLocation(CellLocation cl) {
 		exeLocation = cl;
@@ -2430,7 +2430,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ԪǷִ
+	 * 单元格是否可以执行
 	 * 
 	 * @return
 	 */
@@ -2457,7 +2457,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ׼
+	 * 准备参数
 	 * 
 	 * @return
 	 */
@@ -2491,7 +2491,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ի
+	 * 网格参数对话框
 	 */
 	public void dialogParameter() {
 		DialogArgument dp = new DialogArgument();
@@ -2506,7 +2506,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ƿ½
+	 * 是否新建
 	 * @return
 	 */
 	public boolean isNewGrid() {
@@ -2515,24 +2515,24 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * رҳ
+	 * 关闭页
 	 */
 	public boolean close() {
 		return close(false);
 	}
 
 	/**
-	 * رҳ
-	 * @param isQuit Ƿ˳õ
+	 * 关闭页
+	 * @param isQuit 是否退出调用的
 	 * @return boolean
 	 */
 	public boolean close(boolean isQuit) {
-		// ֹͣб༭ı༭
+		// 先停止所有编辑器的编辑
 		((EditControl) splEditor.getComponent()).acceptText();
 		boolean isChanged = splEditor.isDataChanged();
-		// ûӳ񣬻ӳѾжִеcall񣬶ʾ
+		// 没有子程序的网格，或者有子程序但是已经中断执行的call网格，都提示保存
 		if (stepInfo == null || isStepStopCall()) {
-			// ˳õcloseᴥԶ棨ѡˣ
+			// 退出调用的close，会触发自动保存（如果勾选了）
 			if (ConfigOptions.bAutoSave && isQuit) {
 				if (!autoSave()) {
 					return false;
@@ -2541,9 +2541,9 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 				boolean querySave = false;
 				boolean isNew = isNewGrid();
 				boolean removeBackup = false;
-				if (isNew) { // ½ֱӹرգѯǷ񱣴
+				if (isNew) { // 新建网格如果无内容直接关闭，有内容询问是否保存
 					String spl = CellSetUtil.toString(splControl.cellSet);
-					if (StringUtils.isValidString(spl)) { // ½й༭رʱѯ
+					if (StringUtils.isValidString(spl)) { // 新建网格如果进行过编辑，关闭时询问
 						querySave = true;
 					} else {
 						if (ConfigOptions.bAutoSave.booleanValue()) {
@@ -2577,7 +2577,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 				}
 
 				if (removeBackup) {
-					// Զ棬½ʱ֮ǰбɾ
+					// 自动保存，并且新建时，如果之前有备份则删除
 					try {
 						File backupDir = new File(
 								GM.getAbsolutePath(ConfigOptions.sBackupDirectory));
@@ -2629,7 +2629,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Call
+	 * 结束Call
 	 */
 	protected void finishCall() {
 		try {
@@ -2642,14 +2642,14 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ҳر
+	 * 子页关闭了
 	 */
 	public void subSheetClosed() {
 		this.subSheetOpened = false;
 	}
 
 	/**
-	 * ѡ״̬
+	 * 选择的状态更新了
 	 */
 	public void selectStateChanged(byte newState, boolean keyEvent) {
 		selectState = newState;
@@ -2658,7 +2658,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȡǰѡ״̬
+	 * 取当前选择的状态
 	 * 
 	 * @return
 	 */
@@ -2667,26 +2667,26 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ҽ˵
+	 * 右键单击，弹出菜单。
 	 */
 	public void rightClicked(Component invoker, int x, int y) {
 		popupSpl.getSplPop(selectState).show(invoker, x, y);
 	}
 
 	/**
-	 * Ƿб仯
+	 * 设置是否数据有变化
 	 */
 	public void setDataChanged(boolean isChanged) {
 		splEditor.setDataChanged(isChanged);
 	}
 
 	/**
-	 * ʾǰ񣬲ʱǰλ
+	 * 显示当前格，不可视时滚动到当前格位置
 	 */
 	public boolean scrollActiveCellToVisible = true;
 
 	/**
-	 * ִк
+	 * 命令执行后
 	 */
 	public void commandExcuted() {
 		splEditor.selectAreas(scrollActiveCellToVisible);
@@ -2697,19 +2697,19 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȱ浱ǰļ
+	 * 请先保存当前文件
 	 */
 	private static final String ERROR_NOT_SAVE = IdeSplMessage.get()
 			.getMessage("sheetdfx.savefilebefore");
 
 	/**
-	 * ͬıļ
+	 * 导入同名文本文件
 	 */
 	public void importSameNameTxt() {
 		if (stepInfo != null)
 			return;
 		try {
-			if (isNewGrid()) { // ½
+			if (isNewGrid()) { // 新建
 				JOptionPane.showMessageDialog(GV.appFrame, ERROR_NOT_SAVE);
 				return;
 			}
@@ -2720,7 +2720,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 			}
 			synchronized (threadLock) {
 				if (debugThread != null) {
-					// δִɵǷжִУ
+					// 有未执行完成的任务，是否中断执行？
 					int option = JOptionPane.showOptionDialog(
 							GV.appFrame,
 							IdeSplMessage.get().getMessage(
@@ -2898,11 +2898,11 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * µļ
+	 * 重新导入文件
 	 */
 	public void reloadFile() {
 		try {
-			if (isNewGrid()) { // ½
+			if (isNewGrid()) { // 新建
 				JOptionPane.showMessageDialog(GV.appFrame, ERROR_NOT_SAVE);
 				return;
 			}
@@ -2913,7 +2913,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 			}
 			synchronized (threadLock) {
 				if (debugThread != null) {
-					// δִɵǷжִУ
+					// 有未执行完成的任务，是否中断执行？
 					int option = JOptionPane.showOptionDialog(
 							GV.appFrame,
 							IdeSplMessage.get().getMessage(
@@ -2955,9 +2955,9 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ִ
+	 * 执行命令
 	 * 
-	 * @param cmd GCSplжĳ
+	 * @param cmd GCSpl中定义的常量
 	 */
 	public void executeCmd(short cmd) {
 		switch (cmd) {
@@ -3214,7 +3214,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ǷԱ
+	 * 是否可以保存
 	 * @return
 	 */
 	protected boolean canSave() {
@@ -3222,11 +3222,11 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ʾ
+	 * 提示保存
 	 * @return
 	 */
 	protected boolean querySave() {
-		// ֹͣб༭ı༭
+		// 先停止所有编辑器的编辑
 		((EditControl) splEditor.getComponent()).acceptText();
 		boolean isChanged = splEditor.isDataChanged();
 		if (isChanged) {
@@ -3251,12 +3251,12 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ƿճ
+	 * 是否调整粘贴
 	 */
 	private boolean isAdjustPaste = false;
 
 	/**
-	 * ȡճѡ
+	 * 取粘贴选项
 	 * 
 	 * @return
 	 */
@@ -3264,10 +3264,10 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		byte option = SplEditor.PASTE_OPTION_NORMAL;
 		if (GVSpl.cellSelection != null) {
 			switch (GVSpl.cellSelection.selectState) {
-			case GC.SELECT_STATE_ROW: // ѡе
+			case GC.SELECT_STATE_ROW: // 如果选中的是整行
 				option = SplEditor.PASTE_OPTION_INSERT_ROW;
 				break;
-			case GC.SELECT_STATE_COL: // ѡе
+			case GC.SELECT_STATE_COL: // 如果选中的是整列
 				option = SplEditor.PASTE_OPTION_INSERT_COL;
 				break;
 			}
@@ -3284,18 +3284,18 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ȡ
+	 * 取网格对象
 	 * 
-	 * @return 
+	 * @return 网格对象
 	 */
 	public ICellSet getCellSet() {
 		return splControl.getCellSet();
 	}
 
 	/**
-	 * 
+	 * 设置网格对象
 	 * 
-	 * @param cellSet 
+	 * @param cellSet 网格对象
 	 */
 	public void setCellSet(Object cellSet) {
 		try {
@@ -3306,9 +3306,9 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * Ƿ޸
+	 * 设置网格是否修改了
 	 * 
-	 * @param isChanged Ƿ޸
+	 * @param isChanged 网格是否修改了
 	 */
 	public void setChanged(boolean isChanged) {
 		splEditor.setDataChanged(isChanged);
@@ -3318,19 +3318,19 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ǰҳ
+	 * 当前页监听器
 	 *
 	 */
 	class Listener extends InternalFrameAdapter {
 		/**
-		 * ǰҳ
+		 * 当前页对象
 		 */
 		SheetSpl sheet;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * 
-		 * @param sheet ҳ
+		 * @param sheet 页对象
 		 */
 		public Listener(SheetSpl sheet) {
 			super();
@@ -3338,10 +3338,10 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ǰҳ
+		 * 当前页激活了
 		 */
 		public void internalFrameActivated(InternalFrameEvent e) {
-			// ߳ԵȴĴڳ׹رղżô
+			// 用线程启动以等待别的窗口彻底关闭才激活该窗口
 			SwingUtilities.invokeLater(new Runnable() {
 				public void run() {
 					boolean isSheetChanged = false;
@@ -3389,7 +3389,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ǰҳڹر
+		 * 当前页正在关闭
 		 */
 		public void internalFrameClosing(InternalFrameEvent e) {
 			GVSpl.appFrame.closeSheet(sheet);
@@ -3398,11 +3398,11 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 		}
 
 		/**
-		 * ǰҳڷǼ״̬
+		 * 当前页处于非激活状态
 		 */
 		public void internalFrameDeactivated(InternalFrameEvent e) {
 			GVSpl.splEditor = null;
-			// ıûлƣڲʱˢһ
+			// 活动格的文本没有绘制，窗口不活动时刷新一下
 			sheet.splControl.repaint();
 			GV.toolBarProperty.setEnabled(false);
 			((ToolBarProperty) GV.toolBarProperty).removeCellEditingListeners();
@@ -3412,7 +3412,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * ύԪ༭
+	 * 提交单元格编辑
 	 */
 	public boolean submitEditor() {
 		try {
@@ -3425,7 +3425,7 @@ public class SheetSpl extends IPrjxSheet implements IEditorListener {
 	}
 
 	/**
-	 * 񱣴浽
+	 * 网格保存到输出流中
 	 * 
 	 * @param os
 	 * @return
@@ -7,9 +7,9 @@ import com.scudata.common.CellLocation;
 import com.scudata.dm.Context;
 
 /**
- * ԵϢ
+ * 单步调试的信息。
  * 
- * ֣һǴ򿪵ĸһǱcallspl callsplûд򿪵ģҪȴ򿪣༭ٱ档
+ * 可能有两种，一种是打开的父网，另一种是被call的spl。 被call的spl是没有打开的，保存需要先打开，编辑后再保存。
  *
  */
 public class StepInfo {
@@ -18,58 +18,58 @@ public class StepInfo {
 	public static final byte TYPE_FUNC = 1; // func
 
 	/**
-	 * ͡TYPE_CALL,TYPE_FUNC
+	 * 类型。TYPE_CALL,TYPE_FUNC
 	 */
 	public byte type;
 	/**
-	 * ļ·
+	 * 文件路径
 	 */
 	public String filePath;
 	/**
-	 * ˳ҳб
+	 * 有顺序的页列表
 	 */
 	public List<SheetSpl> sheets;
 	/**
-	 * 
+	 * 上下文
 	 */
 	public Context splCtx;
 	/**
-	 * callfuncڵ
+	 * 父网中call或func函数所在的坐标
 	 */
 	public CellLocation parentLocation;
 	/**
-	 * func
+	 * func的坐标
 	 */
 	public CellLocation funcLocation;
 	/**
-	 * ʼ
+	 * 子网开始计算的坐标
 	 */
 	public CellLocation exeLocation;
 	/**
-	 * Ľ
+	 * 子网的结束行
 	 */
 	public int endRow;
 
 	/**
-	 * callʹ
+	 * call使用
 	 */
 	// public Call parentCall;
 
 	/**
-	 * 
+	 * 网格对象
 	 */
 	public PgmCellSet cellSet;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public StepInfo() {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param sheets ˳ҳб
+	 * @param sheets 有顺序的页列表
 	 */
 	public StepInfo(List<SheetSpl> sheets, byte type) {
 		this.sheets = sheets;
@@ -77,7 +77,7 @@ public class StepInfo {
 	}
 
 	/**
-	 * Ƿfunc
+	 * 是否func函数调用
 	 * 
 	 * @return
 	 */
@@ -86,7 +86,7 @@ public class StepInfo {
 	}
 
 	/**
-	 * Ƿcall
+	 * 是否call函数调用
 	 * 
 	 * @return
 	 */
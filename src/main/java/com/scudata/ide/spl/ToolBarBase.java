@@ -5,14 +5,14 @@ import com.scudata.ide.common.GC;
 import com.scudata.ide.common.GM;
 
 /**
- * ҳ򿪣
+ * 基础工具栏（无页面打开）
  *
  */
 public class ToolBarBase extends AppToolBar {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ToolBarBase() {
 		super();
@@ -22,13 +22,13 @@ public class ToolBarBase extends AppToolBar {
 	}
 
 	/**
-	 * ùǷ
+	 * 设置工具栏是否可用
 	 */
 	public void setBarEnabled(boolean enabled) {
 	}
 
 	/**
-	 * ִ
+	 * 执行命令
 	 */
 	public void executeCmd(short cmdId) {
 		try {
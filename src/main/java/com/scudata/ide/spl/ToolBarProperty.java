@@ -23,31 +23,31 @@ import com.scudata.ide.spl.control.SplControl;
 import com.scudata.ide.spl.control.SplEditor;
 
 /**
- * Թ
+ * 属性工具栏
  *
  */
 public class ToolBarProperty extends ToolBarPropertyBase {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ToolBarProperty() {
 		super();
 	}
 
 	/**
-	 * ñ༭ı
+	 * 设置编辑框的文本
 	 */
 	public void setTextEditorText(String newText) {
 		setTextEditorText(newText, false);
 	}
 
 	/**
-	 * ñ༭ı
+	 * 设置编辑框的文本
 	 * 
-	 * @param newText   ı
-	 * @param isRefresh Ƿˢ
+	 * @param newText   新文本
+	 * @param isRefresh 是否刷新
 	 */
 	public void setTextEditorText(String newText, boolean isRefresh) {
 		if (textEditorFont != GC.font) {
@@ -63,8 +63,8 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 			try {
 				textEditor.setText(newText);
 			} catch (Exception e) {
-				// ıؼӡ쳣ʾִ
-				// Ȱ쳣Ϣˡ
+				// 第三方文本框控件会打印异常，但是显示不会出现错误。
+				// 先把异常信息屏蔽了。
 			}
 			textEditor.initRefCells(false);
 			resetTextWindow();
@@ -75,7 +75,7 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	public void init() {
 		super.init();
@@ -108,7 +108,7 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * ༭
+	 * 设置网格编辑监听器
 	 * @return
 	 */
 	protected void addCellEditingListener(JTextComponent jtext,
@@ -119,9 +119,9 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * ˢCellԵ
+	 * 刷新Cell属性到工具栏
 	 * 
-	 * @param selectState byte ʱû
+	 * @param selectState byte 暂时没用
 	 * @param values      IByteMap
 	 */
 	public void refresh(byte selectState, IByteMap values) {
@@ -163,9 +163,9 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * cellExpʱ,֪ͨı
+	 * 当输入cellExp时,通知改变
 	 * 
-	 * @return 
+	 * @return 无
 	 */
 	public void textEdited(KeyEvent e) {
 		if (preventAction) {
@@ -182,7 +182,7 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * ύ༭
+	 * 提交编辑
 	 */
 	public void submitEditor(String newText, byte forward) {
 		SplControl control = GVSpl.splEditor.getComponent();
@@ -199,7 +199,7 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * ѡ˱༭
+	 * 选择了编辑框
 	 */
 	public void editorSelected() {
 		if (GVSpl.splEditor == null)
@@ -214,9 +214,9 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * ı
+	 * 增加文本
 	 * 
-	 * @param text ı
+	 * @param text 文本
 	 */
 	public void addText(String text) {
 		if (!this.isEnabled()) {
@@ -227,21 +227,21 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * ȡ
+	 * 取上下文
 	 */
 	public Context getContext() {
 		return GMSpl.prepareParentContext();
 	}
 
 	/**
-	 * ùչ
+	 * 设置工具栏展开
 	 */
 	protected void setToolBarExpand() {
 		((SPL) GV.appFrame).setToolBarExpand();
 	}
 
 	/**
-	 * õǰ
+	 * 设置当前格
 	 */
 	protected void setActiveCell(int row, int col) {
 		SplEditor editor = GVSpl.splEditor;
@@ -272,7 +272,7 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * ȡǰ
+	 * 取当前格名称
 	 */
 	protected String getActiveCellId() {
 		SplControl control = GVSpl.splEditor.getComponent();
@@ -283,7 +283,7 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * ȡĸ
+	 * 取最大的格子坐标
 	 */
 	protected CellLocation getMaxCellLocation() {
 		SplControl control = GVSpl.splEditor.getComponent();
@@ -292,7 +292,7 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * TAB
+	 * 按下TAB键
 	 */
 	public void tabPressed() {
 		SplControl control = GVSpl.splEditor.getComponent();
@@ -307,7 +307,7 @@ public class ToolBarProperty extends ToolBarPropertyBase {
 	}
 
 	/**
-	 * ༭ȡ
+	 * 编辑取消了
 	 */
 	public void editCancel() {
 		SplControl control = GVSpl.splEditor.getComponent();
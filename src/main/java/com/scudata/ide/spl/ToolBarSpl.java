@@ -16,19 +16,19 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ҳ򿪺
+ * 集算器工具栏（页面打开后）
  *
  */
 public class ToolBarSpl extends AppToolBar {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ͣť
+	 * 暂停按钮
 	 */
 	private JButton pauseButton;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ToolBarSpl() {
 		super();
@@ -67,7 +67,7 @@ public class ToolBarSpl extends AppToolBar {
 	}
 
 	/**
-	 * ùǷ
+	 * 设置工具栏是否可用
 	 */
 	public void setBarEnabled(boolean enabled) {
 		setButtonEnabled(GCSpl.iSAVE, enabled);
@@ -85,7 +85,7 @@ public class ToolBarSpl extends AppToolBar {
 	}
 
 	/**
-	 * ť
+	 * 按钮命令监听器
 	 */
 	private ActionListener actionNormal = new ActionListener() {
 		public void actionPerformed(ActionEvent e) {
@@ -101,10 +101,10 @@ public class ToolBarSpl extends AppToolBar {
 	};
 
 	/**
-	 * ½ť
+	 * 新建按钮
 	 * 
-	 * @param cmdId  GCSplж
-	 * @param menuId GCSplжĲ˵
+	 * @param cmdId  在GCSpl中定义的命令
+	 * @param menuId 在GCSpl中定义的菜单名
 	 * @return
 	 */
 	private JButton getSplButton(short cmdId, String menuId) {
@@ -116,11 +116,11 @@ public class ToolBarSpl extends AppToolBar {
 	}
 
 	/**
-	 * ½̬
+	 * 新建三态按键
 	 * 
-	 * @param cmdId   GCSplж
-	 * @param menuId  GCSplжĲ˵
-	 * @param toolTip ʾϢ
+	 * @param cmdId   在GCSpl中定义的命令
+	 * @param menuId  在GCSpl中定义的菜单名
+	 * @param toolTip 提示信息
 	 * @return
 	 */
 	public JToggleButton getToggleButton(short cmdId, String menuId,
@@ -149,7 +149,7 @@ public class ToolBarSpl extends AppToolBar {
 	}
 
 	/**
-	 * ִа
+	 * 执行按键命令
 	 */
 	public void executeCmd(short cmdId) {
 		try {
@@ -159,19 +159,19 @@ public class ToolBarSpl extends AppToolBar {
 		}
 	}
 
-	/** ִ */
+	/** 继续执行 */
 	private final String S_CONTINUE = IdeSplMessage.get().getMessage(
 			"menu.program.continue");
-	/** ͣ */
+	/** 暂停 */
 	private final String S_PAUSE = IdeSplMessage.get().getMessage(
 			"menu.program.pause");
-	/** ִͼ */
+	/** 继续执行图标 */
 	private final ImageIcon I_CONTINUE = GM.getMenuImageIcon(GCSpl.CONTINUE);
-	/** ͣͼ */
+	/** 暂停图标 */
 	private final ImageIcon I_PAUSE = GM.getMenuImageIcon(GCSpl.PAUSE);
 
 	/**
-	 * ͣıͼ
+	 * 重置暂停按键的文本和图标
 	 * 
 	 * @param isPause
 	 */
@@ -11,31 +11,31 @@ import com.scudata.ide.spl.control.EditControl;
 import com.scudata.ide.spl.control.SplEditor;
 
 /**
- * Ĺ
+ * 用于重做撤销的管理器
  *
  */
 public class UndoManager {
 	/**
-	 * ԭ
+	 * 撤销原子命令容器
 	 */
 	private LimitedStack undoContainer = new LimitedStack(ConfigOptions.iUndoCount);
 	/**
-	 * ԭ
+	 * 重做原子命令容器
 	 */
 	private LimitedStack redoContainer = new LimitedStack(ConfigOptions.iUndoCount);
 	/**
-	 * ༭
+	 * 网格编辑器
 	 */
 	private SplEditor mEditor;
 	/**
-	 * ؼ
+	 * 网格控件
 	 */
 	private EditControl editControl;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param editor ༭
+	 * @param editor 网格编辑器
 	 */
 	public UndoManager(SplEditor editor) {
 		mEditor = editor;
@@ -43,7 +43,7 @@ public class UndoManager {
 	}
 
 	/**
-	 * ǷԳ
+	 * 是否可以撤销
 	 * 
 	 * @return
 	 */
@@ -52,7 +52,7 @@ public class UndoManager {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否可以重做
 	 * 
 	 * @return
 	 */
@@ -61,7 +61,7 @@ public class UndoManager {
 	}
 
 	/**
-	 * 
+	 * 撤销
 	 */
 	public void undo() {
 		if (undoContainer.empty()) {
@@ -72,7 +72,7 @@ public class UndoManager {
 	}
 
 	/**
-	 * 
+	 * 重做
 	 */
 	public void redo() {
 		if (redoContainer.empty()) {
@@ -83,9 +83,9 @@ public class UndoManager {
 	}
 
 	/**
-	 * ִԭ
+	 * 执行原子命令集
 	 *
-	 * @param microCmds ҪִеԭӼ
+	 * @param microCmds ，要执行的原子集向量
 	 */
 	public void doing(Vector<IAtomicCmd> microCmds) {
 		if (microCmds == null || microCmds.size() == 0) {
@@ -96,7 +96,7 @@ public class UndoManager {
 	}
 
 	/**
-	 * ִԭ
+	 * 执行原子命令
 	 * 
 	 * @param cmd
 	 */
@@ -108,9 +108,9 @@ public class UndoManager {
 	}
 
 	/**
-	 * ָԭ
+	 * 恢复原子命令集
 	 * 
-	 * @param v ԭ
+	 * @param v 原子命令集
 	 * @return
 	 */
 	private Vector<IAtomicCmd> reverseVector(Vector<IAtomicCmd> v) {
@@ -122,10 +122,10 @@ public class UndoManager {
 	}
 
 	/**
-	 * ִԭ
+	 * 执行原子命令集
 	 * 
-	 * @param cmds  ԭ
-	 * @param stack ջ
+	 * @param cmds  原子命令集
+	 * @param stack 堆栈
 	 */
 	private void executeCommands(Vector<IAtomicCmd> cmds, LimitedStack stack) {
 		Vector<IAtomicCmd> vReverseCmds = new Vector<IAtomicCmd>();
@@ -141,7 +141,7 @@ public class UndoManager {
 		}
 		editControl.resetCellSelection(null);
 		ControlUtils.extractSplEditor(editControl).resetSelectedAreas();
-		// Undo󣬹ڸֵпܱ仯װظλı
+		// Undo操作后，光标所在格子值有可能变化，重新装载该位置文本
 		try {
 			editControl.validate();
 		} catch (Exception ex) {
@@ -60,7 +60,7 @@ import com.scudata.server.unit.UnitServer;
 import com.scudata.util.Variant;
 
 /**
- * ͼνķ
+ * 图形界面的服务器主程序
  * 
  * @author Joancy
  *
@@ -125,7 +125,7 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化界面语言
 	 */
 	public static void initLang() {
 		try {
@@ -142,12 +142,12 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 	}
 
 	/**
-	 * ַָķֻ
+	 * 启动指定地址的分机服务器
 	 * 
 	 * @param specifyHost
-	 *            IPַ
+	 *            IP地址
 	 * @param specifyPort
-	 *            ˿ں
+	 *            端口号
 	 */
 	public UnitServerConsole(String specifyHost, int specifyPort) {
 		setTitle(UNITSERVER);
@@ -183,7 +183,7 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 	}
 
 	private void autoStart() {
-		// ÿ״̬ҪõǰĽ棬ʾ˿ںţֻܴУһɺ󣬲һ
+		// 每个服务器的启动状态，要设置到当前的界面，比如显示端口号；所以下面的启动服务器，只能串行，一个启动完成后，才能启动下一个服务。
 		try {
 			httpServer = SplxServerInIDE.getInstance();
 			if (httpServer.isAutoStart()) {
@@ -264,14 +264,14 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 	}
 
 	/**
-	 * 
+	 * 启动服务器
 	 */
 	public synchronized void doStart() {
 		setServerStatus(true);
 		Thread t = new Thread() {
 			public void run() {
 				try {
-					enableStart(false);// ֹظ
+					enableStart(false);// 防止重复触发
 					clickStart();
 				} catch (Exception x) {
 					enableStart(true);
@@ -284,7 +284,7 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 	}
 
 	/**
-	 * ֹͣǰҳķ
+	 * 停止当前页面的服务器
 	 */
 	public void doStop() {
 		jBStop.setEnabled(false);
@@ -301,7 +301,7 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 				jBReset.setEnabled(false);
 				jBStatus.setEnabled(false);
 				resetStatus(0);
-				if (currentServer == unitServer) {// ֹֻͣʱ
+				if (currentServer == unitServer) {// 停止分机时才清除环境
 					Env.clearParam();
 				}
 			}
@@ -328,7 +328,7 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 	}
 
 	/**
-	 * ť
+	 * 按钮触发启动服务器
 	 * 
 	 * @return
 	 * @throws Exception
@@ -343,7 +343,7 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 		}
 
 		int index = tabServer.getSelectedIndex();
-		enableStart(false);// ֹظ
+		enableStart(false);// 防止重复触发
 		switch (index) {
 		case 0:
 			try {
@@ -474,7 +474,7 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 			public void actionPerformed(ActionEvent e) {
 				Env.clearParam();
 				DfxManager.getInstance().clear();
-				// ȴؽɽ汻
+				// 界面操作如果等待返回结果，则会造成界面被锁死
 				UnitServer.init(0, 0, null, false);
 				System.gc();
 			}
@@ -793,7 +793,7 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 		console.clear();
 	}
 
-	// -b black ڽ棬ͼν
+	// -b black 黑界面，即启动无图形界面
 	public static void main(String[] args) {
 		initLang();
 		Logger.info(ParallelMessage.get().getMessage("UnitServer.run2",
@@ -834,7 +834,7 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 		if (isGraph) {
 			ServerConsole.setDefaultLNF();
 			try {
-//				ѡ嵽ڴ棬ӦãǰӦ壻
+//				仅加载选项字体到内存，不应用，界面启动前应用字体；
 				ConfigOptions.load2(false,false);
 			} catch (Throwable e) {
 				e.printStackTrace();
@@ -866,17 +866,17 @@ public class UnitServerConsole extends JFrame implements StartUnitListener {
 	}
 
 	/**
-	 * öǰӦó
+	 * 置顶当前应用程序
 	 */
 	public void toTop() {
 		this.setAlwaysOnTop(true);
 	}
 
 	/**
-	 * 󴥷¼
+	 * 服务器启动后触发的事件
 	 * 
 	 * @param atPort
-	 *            ˿ں
+	 *            服务端口号
 	 */
 	public synchronized void serverStarted(int atPort) {
 		resetButtons();
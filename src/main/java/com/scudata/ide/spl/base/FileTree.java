@@ -39,7 +39,7 @@ import com.scudata.ide.common.GV;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * Դؼ
+ * 资源树控件
  *
  */
 public class FileTree extends JTree {
@@ -48,30 +48,30 @@ public class FileTree extends JTree {
 	public static MessageManager mm = IdeSplMessage.get();
 
 	/**
-	 * 
+	 * 根结点
 	 */
 	protected FileTreeNode root;
 	/**
-	 * Դ
+	 * 本地资源
 	 */
 	protected FileTreeNode localRoot;
 	/**
-	 * δӦԴ·
+	 * 未设置应用资源路径
 	 */
 	private static final String NO_MAIN_PATH = mm
 			.getMessage("filetree.nomainpath");
 	/**
-	 * DEMOĿ¼
+	 * DEMO目录不存在
 	 */
 	private static final String NO_DEMO_DIR = mm
 			.getMessage("filetree.nodemodir");
 	/**
-	 * ӦԴ
+	 * 应用资源
 	 */
 	public static final String ROOT_TITLE = mm.getMessage("filetree.roottitle");
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public FileTree() {
 		super();
@@ -121,19 +121,19 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * δչ
+	 * 未展开
 	 */
 	private final String NOT_EXPAND = "NOT_EXPAND";
 
 	/**
-	 * չ״̬
+	 * 保存展开状态
 	 * 
-	 * @param dl ļλ
+	 * @param dl 文件树的位置
 	 */
 	public void saveExpandState(int dl) {
 		try {
-			ConfigOptions.iConsoleLocation = new Integer(dl); // ļ̨
-			if (!this.isExpanded(0)) { // ڵûչ
+			ConfigOptions.iConsoleLocation = new Integer(dl); // 保存文件树、控制台宽度
+			if (!this.isExpanded(0)) { // 根节点没展开
 				ConfigOptions.sFileTreeExpand = NOT_EXPAND;
 				ConfigOptions.save(false, true);
 				return;
@@ -157,12 +157,12 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * Ƿʼ
+	 * 是否初始化
 	 */
 	private boolean isInit = true;
 
 	/**
-	 * ˢ±ļ
+	 * 刷新本地文件
 	 */
 	public synchronized void refreshLocal() {
 		localRoot.removeAllChildren();
@@ -208,17 +208,17 @@ public class FileTree extends JTree {
 		localRoot.setExpanded(true);
 		loadSubNode(localRoot);
 		nodeStructureChanged(localRoot);
-		if (isInit) { // ϴչṹ
+		if (isInit) { // 加载上次树形扩展结构
 			isInit = false;
 			try {
 				String sExpand = ConfigOptions.sFileTreeExpand;
-				if (!StringUtils.isValidString(sExpand)) { // һδ
+				if (!StringUtils.isValidString(sExpand)) { // 第一次打开
 					this.collapsePath(new TreePath(localRoot.getPath()));
 					loadSubNode(localRoot);
 					nodeStructureChanged(localRoot);
 					return;
 				}
-				if (NOT_EXPAND.equals(sExpand)) { // ڵûչ
+				if (NOT_EXPAND.equals(sExpand)) { // 根节点没展开
 					this.collapsePath(new TreePath(localRoot.getPath()));
 					localRoot.setExpanded(false);
 					return;
@@ -241,11 +241,11 @@ public class FileTree extends JTree {
 
 	protected void treeNodeWillExpand(FileTreeNode node) {
 		if (node != null && !node.isLoaded()) {
-			// ݽڵͣˢ¼ؽڵķ
+			// 根据节点类型，调用刷新加载节点的方法
 			if (node.getType() == FileTreeNode.TYPE_LOCAL) {
 				loadSubNode(node);
 			} else if (node.getType() == FileTreeNode.TYPE_ROOT) {
-				// ˢ¸ڵ
+				// 刷新根节点
 				refreshLocal();
 			}
 			node.setExpanded(true);
@@ -254,7 +254,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * չ
+	 * 展开树结点
 	 * 
 	 * @param pNode
 	 * @param expandList
@@ -273,9 +273,9 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ӽ
+	 * 加载子结点
 	 * 
-	 * @param pNode 
+	 * @param pNode 父结点
 	 */
 	protected void loadSubNode(FileTreeNode pNode) {
 		try {
@@ -330,7 +330,7 @@ public class FileTree extends JTree {
 				if (!StringUtils.isValidString(fileName)) {
 					continue;
 				}
-				if (existNames.contains(fileName)) { // Ѿعӽ
+				if (existNames.contains(fileName)) { // 已经加载过的子结点
 					continue;
 				}
 				FileTreeNode node = new FileTreeNode(f.getAbsolutePath(),
@@ -351,7 +351,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ǷϷļ
+	 * 是否合法文件
 	 * 
 	 * @param fileName
 	 * @return
@@ -361,7 +361,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ʾ
+	 * 显示结点
 	 * 
 	 * @param node
 	 */
@@ -369,9 +369,9 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ȡҼ˵
+	 * 取右键弹出菜单
 	 * 
-	 * @param node ѡĽ
+	 * @param node 选择的结点
 	 * @return
 	 */
 	protected JPopupMenu getPopupMenu(final FileTreeNode node) {
@@ -392,19 +392,19 @@ public class FileTree extends JTree {
 		return popMenu;
 	}
 
-	/** ļ */
+	/** 打开文件 */
 	public static final byte OPEN_FILE = (byte) 1;
-	/** Ŀ¼ */
+	/** 打开目录 */
 	public static final byte OPEN_DIR = (byte) 2;
-	/** ļĿ¼ */
+	/** 打开文件所在目录 */
 	public static final byte OPEN_FILE_DIR = (byte) 3;
-	/** ˢ */
+	/** 刷新 */
 	public static final byte REFRESH = (byte) 4;
-	/** лʾĿ¼/DEMO */
+	/** 切换显示主目录/DEMO */
 	public static final byte SWITCH_PATH = (byte) 5;
 
 	/**
-	 * ½˵
+	 * 新建菜单项
 	 * 
 	 * @param action
 	 * @param al
@@ -415,26 +415,26 @@ public class FileTree extends JTree {
 		String imgPath;
 		switch (action) {
 		case OPEN_FILE:
-			title = mm.getMessage("filetree.open"); // 
+			title = mm.getMessage("filetree.open"); // 打开
 			imgPath = "m_open.gif";
 			break;
 		case OPEN_DIR:
-			title = mm.getMessage("filetree.opendir"); // Ŀ¼
+			title = mm.getMessage("filetree.opendir"); // 打开目录
 			imgPath = "m_load.gif";
 			break;
 		case OPEN_FILE_DIR:
-			title = mm.getMessage("filetree.openfiledir"); // ļĿ¼
+			title = mm.getMessage("filetree.openfiledir"); // 打开文件所在目录
 			imgPath = "m_load.gif";
 			break;
 		case REFRESH:
-			title = mm.getMessage("filetree.refresh"); // ˢ
+			title = mm.getMessage("filetree.refresh"); // 刷新
 			imgPath = "m_refresh.gif";
 			break;
 		case SWITCH_PATH:
 			if (ConfigOptions.bFileTreeDemo)
-				title = mm.getMessage("filetree.switchmain"); // лʾĿ¼
+				title = mm.getMessage("filetree.switchmain"); // 切换显示主目录
 			else
-				title = mm.getMessage("filetree.switchdemo"); // лʾDEMO
+				title = mm.getMessage("filetree.switchdemo"); // 切换显示DEMO
 			imgPath = "switchpath.gif";
 			break;
 		default:
@@ -449,7 +449,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ˵
+	 * 菜单命令监听器
 	 *
 	 */
 	protected class MenuListener implements ActionListener {
@@ -504,7 +504,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ˢڵ
+	 * 刷新树节点
 	 * @param node
 	 */
 	public void refreshNode(FileTreeNode node) {
@@ -514,14 +514,14 @@ public class FileTree extends JTree {
 		if (node.getType() == FileTreeNode.TYPE_LOCAL) {
 			loadSubNode(node);
 		} else if (node.getType() == FileTreeNode.TYPE_ROOT) {
-			// ˢ¸ڵ
+			// 刷新根节点
 			refreshLocal();
 		}
 		nodeStructureChanged(node);
 	}
 
 	/**
-	 * ļ
+	 * 打开文件
 	 * 
 	 * @param node
 	 */
@@ -539,7 +539,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ¼
+	 * 鼠标事件监听器
 	 *
 	 */
 	class mTree_mouseAdapter extends MouseAdapter {
@@ -608,14 +608,14 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ڵĵ
+	 * 树节点的点击
 	 * @param node
 	 */
 	protected void nodeSelected(FileTreeNode node) {
 	}
 
 	/**
-	 * ӽڵѡ״̬
+	 * 设置子节点的选中状态
 	 * 
 	 * @param pNode
 	 * @param state
@@ -629,7 +629,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * øڵѡ״̬
+	 * 设置父节点的选中状态
 	 * 
 	 * @param node
 	 */
@@ -656,12 +656,12 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * Ƿѡ
+	 * 是否复选框结点
 	 */
 	protected boolean isCheckNode = false;
 
 	/**
-	 * Ϊѡ
+	 * 设置为复选框结点
 	 * 
 	 * @param isCheckNode
 	 */
@@ -670,7 +670,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * Ƿѡ
+	 * 是否复选框结点
 	 * 
 	 * @return
 	 */
@@ -679,7 +679,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ȡǰ
+	 * 取当前结点
 	 * 
 	 * @return
 	 */
@@ -691,7 +691,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ļ
+	 * 增加文件结点
 	 * 
 	 * @param pNode
 	 * @param path
@@ -716,7 +716,7 @@ public class FileTree extends JTree {
 		}
 		String lastName = paths.get(paths.size() - 1);
 		FileTreeNode fNode = getChildByName(pNode, lastName);
-		if (fNode != null) // ͬļ
+		if (fNode != null) // 已有同名文件
 			return null;
 		fNode = new FileTreeNode(data, FileTreeNode.TYPE_LOCAL);
 		fNode.setTitle(lastName);
@@ -725,7 +725,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * λļ
+	 * 定位文件结点
 	 * 
 	 * @param pNode
 	 * @param path
@@ -750,7 +750,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * λļ
+	 * 定位文件结点
 	 * 
 	 * @param pNode
 	 * @param paths
@@ -769,7 +769,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ȡӽڵ
+	 * 按名字取子节点
 	 * 
 	 * @param pNode
 	 * @param nodeName
@@ -789,7 +789,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ѡ
+	 * 选择结点
 	 * 
 	 * @param node
 	 */
@@ -801,7 +801,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * 仯
+	 * 结点变化了
 	 * 
 	 * @param node
 	 */
@@ -811,7 +811,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ṹ仯
+	 * 结点结构变化了
 	 * 
 	 * @param node
 	 */
@@ -821,7 +821,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * ȡڵ
+	 * 取根节点
 	 * 
 	 * @return
 	 */
@@ -830,7 +830,7 @@ public class FileTree extends JTree {
 	}
 
 	/**
-	 * Ŀ¼
+	 * 更换主目录
 	 */
 	public void changeMainPath(String mainPath) {
 		ConfigOptions.sMainPath = mainPath;
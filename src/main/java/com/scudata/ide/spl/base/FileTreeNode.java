@@ -9,69 +9,69 @@ import javax.swing.tree.DefaultMutableTreeNode;
 import com.scudata.ide.common.GM;
 
 /**
- * Դ
+ * 资源树结点
  *
  */
 public class FileTreeNode extends DefaultMutableTreeNode {
 	private static final long serialVersionUID = 1L;
 
-	/** ڵ */
+	/** 根节点类型 */
 	public static final byte TYPE_ROOT = 0;
-	/** Դ */
+	/** 本地资源类型 */
 	public static final byte TYPE_LOCAL = 1;
 
-	/** δѡ״̬ */
+	/** 未选择状态 */
 	public static final byte NOT_SELECTED = 0;
-	/** ѡ״̬ */
+	/** 选择状态 */
 	public static final byte SELECTED = 1;
-	/** ̬ */
+	/** 第三态 */
 	public static final byte DONT_CARE = 2;
 
 	/**
-	 * ѡ״̬
+	 * 选择状态
 	 */
 	private transient byte selectedState = SELECTED;
 
 	/**
-	 * Ƿѡ
+	 * 是否复选框结点
 	 */
 	private boolean isCheckNode = false;
 	/**
-	 * ǷѾӽ
+	 * 是否已经加载了子结点
 	 */
 	private boolean isLoaded = false;
 
 	/**
-	 * 
+	 * 结点类型
 	 */
 	private byte type = TYPE_LOCAL;
 	/**
-	 * 
+	 * 结点标题
 	 */
 	private String title = null;
 	/**
-	 * ǷĿ¼trueĿ¼falseļ
+	 * 是否目录。true是目录，false是文件。
 	 */
 	protected boolean isDir = false;
 	/**
-	 * 
+	 * 过滤条件
 	 */
 	private String filter = null;
 	/**
-	 * ӽб
+	 * 子结点列表
 	 */
 	private ArrayList<FileTreeNode> childBuffer = null;
 	/**
-	 * Ƿƥ
+	 * 是否匹配了
 	 */
 	private boolean isMatched = false;
 	/**
-	 * Ƿչ
+	 * 是否展开了
 	 */
 	private boolean isExpanded = false;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param data
 	 * @param type
@@ -82,7 +82,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * Ŀ¼
+	 * 设置目录
 	 * 
 	 * @param isDir
 	 */
@@ -91,7 +91,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡĿ¼
+	 * 取目录
 	 * 
 	 * @return
 	 */
@@ -100,7 +100,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * Ƿƥ
+	 * 设置是否匹配
 	 * 
 	 * @param isMatched
 	 */
@@ -109,7 +109,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡǷƥ
+	 * 取是否匹配
 	 * 
 	 * @return
 	 */
@@ -118,7 +118,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡʾͼ
+	 * 取显示的图标
 	 * 
 	 * @return
 	 */
@@ -126,7 +126,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 		String imgPath = "/com/scudata/ide/common/resources/";
 		if (this.getLevel() == 0) {
 			imgPath += "tree0.gif";
-		} else if (this.getLevel() == 1) { // ԴͷԴĿ¼ͼ
+		} else if (this.getLevel() == 1) { // 本地资源和服务器资源根目录的图标
 			imgPath += "treelocal.gif";
 		} else {
 			if (isDir)
@@ -140,7 +140,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * Ƿӽ
+	 * 设置是否加载了子结点
 	 * 
 	 * @param isLoaded
 	 */
@@ -149,7 +149,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡǷӽ
+	 * 取是否加载了子结点
 	 * 
 	 * @return
 	 */
@@ -158,7 +158,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡ
+	 * 取结点类型
 	 * 
 	 * @return
 	 */
@@ -167,7 +167,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ý
+	 * 设置结点类型
 	 * 
 	 * @param type
 	 */
@@ -176,7 +176,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡ
+	 * 取结点名字
 	 * 
 	 * @return
 	 */
@@ -185,7 +185,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡȫ·
+	 * 取全路径
 	 * 
 	 * @return
 	 */
@@ -202,7 +202,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡ
+	 * 取标题
 	 * 
 	 * @return
 	 */
@@ -211,7 +211,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ñ
+	 * 设置标题
 	 * 
 	 * @param title
 	 */
@@ -220,7 +220,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ѡ״̬
+	 * 选中状态
 	 * 
 	 * @return NOT_SELECTED,SELECTED,DONT_CARE
 	 */
@@ -229,7 +229,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ѡ״̬
+	 * 设置选中状态
 	 * 
 	 * @param selectedState
 	 *            NOT_SELECTED,SELECTED,DONT_CARE
@@ -239,10 +239,10 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ù
+	 * 设置过滤条件
 	 * 
 	 * @param filter
-	 *            
+	 *            过滤条件
 	 * 
 	 */
 	public void setFilter(String filter) {
@@ -251,7 +251,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * 
+	 * 过滤
 	 */
 	private void filter() {
 		if (childBuffer == null) {
@@ -271,16 +271,16 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ȡ
+	 * 取过滤条件
 	 * 
-	 * @return 
+	 * @return 过滤条件
 	 */
 	public String getFilter() {
 		return filter;
 	}
 
 	/**
-	 * Ƿѡ
+	 * 是否复选框结点
 	 * 
 	 * @return
 	 */
@@ -289,7 +289,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * øѡ
+	 * 设置复选框结点
 	 * 
 	 * @param isCheckNode
 	 */
@@ -298,7 +298,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * Ƿչ
+	 * 结点是否展开
 	 * 
 	 * @return
 	 */
@@ -307,7 +307,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ýǷչ
+	 * 设置结点是否展开
 	 * 
 	 * @param isExpanded
 	 */
@@ -316,7 +316,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * ¡
+	 * 克隆
 	 * 
 	 * @return
 	 */
@@ -330,7 +330,7 @@ public class FileTreeNode extends DefaultMutableTreeNode {
 	}
 
 	/**
-	 * תΪַ
+	 * 转换为字符串
 	 */
 	public String toString() {
 		if (title != null)
@@ -15,7 +15,7 @@ import com.scudata.ide.common.ConfigOptions;
 import com.scudata.ide.common.swing.TristateCheckBox;
 
 /**
- * ԴȾ
+ * 资源树结点渲染器
  *
  */
 public class FileTreeRender extends DefaultTreeCellRenderer {
@@ -23,13 +23,13 @@ public class FileTreeRender extends DefaultTreeCellRenderer {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public FileTreeRender() {
 	}
 
 	/**
-	 * ȡʾĽؼ
+	 * 取显示的结点控件
 	 */
 	public Component getTreeCellRendererComponent(JTree tree, Object value,
 			boolean sel, boolean expanded, boolean leaf, int row,
@@ -43,13 +43,13 @@ public class FileTreeRender extends DefaultTreeCellRenderer {
 			// if (node.isMatched())
 			// setForeground(Color.RED);
 			// setIcon(node.getDispIcon());
-			// ļѡ״̬ıɫ
+			// 设置文件树选中状态的背景色
 			return setSelectBackgroundColor(tree, node, sel);
 		}
 	}
 
 	/**
-	 * ȡߴС
+	 * 取尺寸大小
 	 */
 	public Dimension getPreferredSize() {
 		Dimension d = super.getPreferredSize();
@@ -57,7 +57,7 @@ public class FileTreeRender extends DefaultTreeCellRenderer {
 	}
 
 	/**
-	 * ȡѡ
+	 * 取复选框结点面板
 	 * 
 	 * @param tree
 	 * @param node
@@ -87,11 +87,11 @@ public class FileTreeRender extends DefaultTreeCellRenderer {
 		JLabel labelName = new JLabel("  " + node.getName());
 		panel.add(labelName, BorderLayout.EAST);
 		if (sel) {
-			// ļѡ״̬ıɫ
+			// 设置文件树选中状态的背景色
 			Color backColor;
 			if (ConfigOptions.getFileColor() != null) {
 				backColor = ConfigOptions.getFileColor();
-			} else { // δԶɫϵͳĬɫ
+			} else { // 未自定义配置颜色，则用系统默认颜色
 				backColor = new DefaultTreeCellRenderer()
 						.getBackgroundSelectionColor();
 			}
@@ -114,7 +114,7 @@ public class FileTreeRender extends DefaultTreeCellRenderer {
 	}
 
 	/**
-	 * ļѡ״̬ıɫ
+	 * 设置文件树选中状态的背景色
 	 * 
 	 * @param tree
 	 * @param node
@@ -131,22 +131,22 @@ public class FileTreeRender extends DefaultTreeCellRenderer {
 		Color backColor;
 		if (sel) {
 			if (StringUtils.isValidString(ConfigOptions.fileColor)) {
-				// ļɫãøɫϵͳĬɫ
+				// 若从配置文件读到颜色配置，则用改颜色，否则用系统默认颜色
 				String bgColor = ConfigOptions.fileColor;
 				int red = Integer.parseInt(bgColor.substring(1, 3), 16);
 				int green = Integer.parseInt(bgColor.substring(3, 5), 16);
 				int blue = Integer.parseInt(bgColor.substring(5, 7), 16);
 				int opacity;
 				if (StringUtils.isValidString(ConfigOptions.fileColorOpacity)) {
-					// ɫ͸
+					// 设置颜色透明度
 					opacity = Math.round(255 * Float
 							.parseFloat(ConfigOptions.fileColorOpacity));
 				} else {
 					opacity = 255;
 				}
-				// 77Ϊ͸ã77/255=30%͸
+				// 77为透明度设置，即77/255=30%透明度
 				backColor = new Color(red, green, blue, opacity);
-			} else { // δԶɫϵͳĬɫ
+			} else { // 未自定义配置颜色，则用系统默认颜色
 				backColor = new DefaultTreeCellRenderer()
 						.getBackgroundSelectionColor();
 			}
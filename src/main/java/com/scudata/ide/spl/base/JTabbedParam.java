@@ -17,50 +17,50 @@ import com.scudata.ide.spl.GVSpl;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * IDE½ǵĶǩҳ塣бʽȱǩҳ
+ * IDE右下角的多标签页面板。有变量、表达式等标签页
  *
  */
 public abstract class JTabbedParam extends JTabbedPane {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * 
+	 * 网格变量
 	 */
 	private final String STR_CS_VAR = mm.getMessage("jtabbedparam.csvar");
 
 	/**
-	 * ռ
+	 * 任务空间变量
 	 */
 	private final String STR_SPACE_VAR = mm.getMessage("jtabbedparam.spacevar");
 
 	/**
-	 * ȫֱ
+	 * 全局变量
 	 */
 	private final String STR_GB_VAR = mm.getMessage("jtabbedparam.globalvar");
 
 	/**
-	 * 鿴ʽ
+	 * 查看表达式
 	 */
 	private final String STR_WATCH = mm.getMessage("jtabbedparam.watch");
 
 	/**
-	 * Դ
+	 * 数据源
 	 */
 	private final String STR_DB = mm.getMessage("jtabbedparam.db");
 
 	/**
-	 * 
+	 * 输出
 	 */
 	private final String STR_CONSOLE = IdeSplMessage.get().getMessage(
 			"dfx.tabconsole");
 
 	/**
-	 * ؼ
+	 * 变量表控件
 	 */
 	private TableVar tableCsVar = new TableVar() {
 		private static final long serialVersionUID = 1L;
@@ -71,7 +71,7 @@ public abstract class JTabbedParam extends JTabbedPane {
 	};
 
 	/**
-	 * ռؼ
+	 * 任务空间变量表控件
 	 */
 	private JTableJobSpace tableSpaceVar = new JTableJobSpace() {
 		private static final long serialVersionUID = 1L;
@@ -82,7 +82,7 @@ public abstract class JTabbedParam extends JTabbedPane {
 	};
 
 	/**
-	 * ȫֱؼ
+	 * 全局变量表控件
 	 */
 	private TableVar tableGbVar = new TableVar() {
 		private static final long serialVersionUID = 1L;
@@ -93,16 +93,16 @@ public abstract class JTabbedParam extends JTabbedPane {
 	};
 
 	/**
-	 * ѡֶ
+	 * 选择字段面板
 	 */
 	private PanelSelectField psf = new PanelSelectField();
 	/**
-	 * 
+	 * 数据面板
 	 */
 	private PanelConsole panelConsole;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JTabbedParam() {
 		this.setMinimumSize(new Dimension(0, 0));
@@ -118,7 +118,7 @@ public abstract class JTabbedParam extends JTabbedPane {
 	}
 
 	/**
-	 * û
+	 * 重置环境
 	 */
 	public void resetEnv() {
 		boolean allClosed = true;
@@ -146,7 +146,7 @@ public abstract class JTabbedParam extends JTabbedPane {
 	}
 
 	/**
-	 * ȡ
+	 * 取输出面板
 	 * 
 	 * @return
 	 */
@@ -155,7 +155,7 @@ public abstract class JTabbedParam extends JTabbedPane {
 	}
 
 	/**
-	 * Ƿ
+	 * 设置输出面板是否可视
 	 * 
 	 * @param isVisible
 	 */
@@ -179,7 +179,7 @@ public abstract class JTabbedParam extends JTabbedPane {
 	}
 
 	/**
-	 * ʾҳ
+	 * 显示输出页
 	 */
 	public void showConsoleTab() {
 		int index = getTabIndex(STR_CONSOLE);
@@ -188,10 +188,10 @@ public abstract class JTabbedParam extends JTabbedPane {
 	}
 
 	/**
-	 * ȡָƱǩ
+	 * 取指定名称标签的序号
 	 * 
 	 * @param tabName
-	 *            ǩ
+	 *            标签名称
 	 * @return
 	 */
 	private int getTabIndex(String tabName) {
@@ -205,7 +205,7 @@ public abstract class JTabbedParam extends JTabbedPane {
 	}
 
 	/**
-	 * ѡ
+	 * 选择变量
 	 * 
 	 * @param val
 	 * @param varName
@@ -213,9 +213,9 @@ public abstract class JTabbedParam extends JTabbedPane {
 	public abstract void selectVar(Object val, String varName, String spaceName);
 
 	/**
-	 * òб
+	 * 重置参数列表
 	 * 
-	 * @param pl б
+	 * @param pl 参数列表
 	 */
 	public void resetParamList(ParamList paramList,
 			HashMap<String, Param[]> hm, ParamList envParamList) {
@@ -36,23 +36,23 @@ import com.scudata.ide.spl.resources.IdeSplMessage;
 import com.scudata.util.Variant;
 
 /**
- * ռؼ
+ * 任务空间表控件
  */
 public abstract class JTableJobSpace extends JPanel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * Ƿֹ仯
+	 * 是否阻止变化
 	 */
 	private boolean preventChange = false;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JTableJobSpace() {
 		super(new BorderLayout());
@@ -61,7 +61,7 @@ public abstract class JTableJobSpace extends JPanel {
 	}
 
 	/**
-	 * ѡ˲
+	 * 选择了参数
 	 * 
 	 * @param val
 	 * @param varName
@@ -78,7 +78,7 @@ public abstract class JTableJobSpace extends JPanel {
 	private HashMap<String, Param[]> paramMap;
 
 	/**
-	 * ռ
+	 * 重置任务空间
 	 */
 	public synchronized void setJobSpaces(HashMap<String, Param[]> paramMap) {
 		this.paramMap = paramMap;
@@ -113,12 +113,12 @@ public abstract class JTableJobSpace extends JPanel {
 	}
 
 	/**
-	 * ռ䵽
+	 * 增加任务空间到表格行
 	 * 
 	 * @param id
 	 * @param params
-	 * @param dispRows ʾ
-	 * @return Ƿ
+	 * @param dispRows 显示行数
+	 * @return 是否继续增加
 	 */
 	private boolean addJobSpaceRow(String id, Param[] params, int dispRows) {
 		for (int j = 0; j < params.length; j++) {
@@ -134,7 +134,7 @@ public abstract class JTableJobSpace extends JPanel {
 	}
 
 	/**
-	 * ȡռ
+	 * 取任务空间名
 	 * @param row
 	 * @return
 	 */
@@ -144,7 +144,7 @@ public abstract class JTableJobSpace extends JPanel {
 	}
 
 	/**
-	 * ȡ
+	 * 取变量名
 	 * @param row
 	 * @return
 	 */
@@ -154,7 +154,7 @@ public abstract class JTableJobSpace extends JPanel {
 	}
 
 	/**
-	 * ȡʾ
+	 * 取显示行
 	 * @return
 	 */
 	private int getDispRows() {
@@ -165,7 +165,7 @@ public abstract class JTableJobSpace extends JPanel {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		JScrollPane jSPTable = new JScrollPane(tableVar);
@@ -224,22 +224,22 @@ public abstract class JTableJobSpace extends JPanel {
 		tableVar.setColumnVisible(TITLE_VAR, false);
 	}
 
-	/**  */
+	/** 序号列 */
 	private final byte COL_INDEX = 0;
-	/** ռID */
+	/** 任务空间ID */
 	private final byte COL_SPACE = 1;
-	/**  */
+	/** 参数名 */
 	private final byte COL_NAME = 2;
-	/** ֵ */
+	/** 参数值 */
 	private final byte COL_VALUE = 3;
-	/**  */
+	/** 参数对象，隐藏列 */
 	private final byte COL_VAR = 4;
 
-	/** бǩ */
+	/** 参数对象列标签，隐藏列 */
 	private final String TITLE_VAR = "TITLE_VAR";
 
 	/**
-	 * ؼ ,ռ,,ֵ,TITLE_VAR
+	 * 参数表控件。 序号,空间名,变量名,变量值,TITLE_VAR
 	 */
 	private JTableEx tableVar = new JTableEx(
 			mm.getMessage("jtablejobspace.tablenames") + "," + TITLE_VAR) {
@@ -313,7 +313,7 @@ public abstract class JTableJobSpace extends JPanel {
 	private static final int DEFAULT_ROW_COUNT = 100;
 
 	/**
-	 * ʾ
+	 * 显示的最大行数面板
 	 */
 	private JSpinner jSDispRows = new JSpinner(new SpinnerNumberModel(
 			DEFAULT_ROW_COUNT, 1, Integer.MAX_VALUE, 1));
@@ -81,7 +81,7 @@ import com.scudata.ide.spl.resources.IdeSplMessage;
 import com.scudata.util.Variant;
 
 /**
- * ֵ
+ * 值面板
  *
  */
 public class JTableValue extends JTableEx {
@@ -89,115 +89,115 @@ public class JTableValue extends JTableEx {
 
 	private PanelValue panelValue;
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	private static MessageManager mm = IdeSplMessage.get();
 	/**
-	 * 
+	 * 序号列名
 	 */
 	private final String TITLE_INDEX = mm.getMessage("public.index");
 	/**
-	 * Ա
+	 * 成员列名
 	 */
 	private final String TITLE_SERIES = mm.getMessage("jtablevalue.menber");
 
 	/**
-	 * һ
+	 * 第一列
 	 */
 	private final int COL_FIRST = 0;
 
-	/** ȱʡ */
+	/** 缺省 */
 	private final byte TYPE_DEFAULT = 0;
-	/**  */
+	/** 序表 */
 	private final byte TYPE_TABLE = 1;
-	/**  */
+	/** 序列 */
 	private final byte TYPE_SERIES = 2;
-	/** ¼ */
+	/** 记录 */
 	private final byte TYPE_RECORD = 3;
-	/**  */
+	/** 纯排列 */
 	private final byte TYPE_PMT = 4;
-	/** Уʱãͨнʾ */
+	/** 排列，暂时弃用，按照普通序列进行显示 */
 	private final byte TYPE_SERIESPMT = 5;
-	/** DBInfo */
+	/** DBInfo对象 */
 	private final byte TYPE_DB = 6;
-	/** FileObject */
+	/** FileObject对象 */
 	private final byte TYPE_FILE = 7;
 
 	/**
-	 * ֵ
+	 * 值类型
 	 */
 	private byte m_type = TYPE_DEFAULT;
 
 	/**
-	 * ֵԭʼֵ
+	 * 值和原始值
 	 */
 	private Object value, originalValue;
 
 	/**
-	 * ڻͼʱõ
+	 * 画布，在画图时用到
 	 */
 	private Canvas canvas;
 
 	/**
-	 * Ƿɱ༭
+	 * 是否可编辑
 	 */
 	private boolean editable;
 
 	/**
-	 * ȡͷصĶջ
+	 * 用于数据钻取和返回的堆栈
 	 */
 	private Stack<Object> undo = new Stack<Object>();
 	private Stack<Object> redo = new Stack<Object>();
 
 	/**
-	 * Ƿ̶ʾĳԪֵŹ仯
+	 * 是否固定显示某个单元格值，不随着光标变化
 	 */
 	private boolean isLocked = false;
 	/**
-	 * ǷΪģʽġȡ˼ʽʱû
+	 * 用来区分是否因为计算模式锁的。现在取消了计算格式，暂时没用了
 	 */
 	private boolean isLocked1 = false;
 
 	/**
-	 * Ԫ
+	 * 单元格名称
 	 */
 	private String cellId;
-	/** ֵ */
+	/** 复制值 */
 	public static final short iCOPY = 11;
-	/**  */
+	/** 复制列名 */
 	public static final short iCOPY_COLNAMES = 12;
-	/** ճ */
+	/** 粘贴 */
 	private final short iPASTE = 13;
-	/** иʽ */
+	/** 设置列格式 */
 	private final short iFORMAT = 17;
 
 	/**
-	 * и
+	 * 行高
 	 */
 	private final int ROW_HEIGHT = 20;
 
 	/**
-	 * 
+	 * 行数
 	 */
 	private int rowCount = 0;
 
 	/**
-	 * ༭
+	 * 编辑监听器
 	 */
 	private EditListener editListener = null;
 
 	/**
-	 * ѡк
+	 * 选择的行号
 	 */
 	private IntArrayList selectedRows = new IntArrayList();
 
 	/**
-	 * ֮ǰѡк
+	 * 之前选择的行号
 	 */
 	private int lastRow = -1;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JTableValue(PanelValue panelValue) {
 		this.panelValue = panelValue;
@@ -321,7 +321,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ñ༭
+	 * 设置编辑监听器
 	 * 
 	 * @param el
 	 */
@@ -330,7 +330,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡÿҳʾ
+	 * 取每页显示的行数
 	 * 
 	 * @return
 	 */
@@ -340,7 +340,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ѡ
+	 * 选择了行
 	 * 
 	 * @param e
 	 * @param row
@@ -373,7 +373,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ּ
+	 * 增加鼠标滚轮监听
 	 * 
 	 * @param com
 	 */
@@ -395,14 +395,14 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ˫ʱȡ
+	 * 鼠标双击时钻取数据
 	 */
 	public void doubleClicked(int xpos, int ypos, int row, int col, MouseEvent e) {
 		drillValue(row, col);
 	}
 
 	/**
-	 * Ҽ˵
+	 * 鼠标右键菜单
 	 */
 	public void rightClicked(int xpos, int ypos, final int row, final int col,
 			MouseEvent e) {
@@ -411,13 +411,13 @@ public class JTableValue extends JTableEx {
 		int selectedCol = getSelectedColumn();
 		if (selectedCol > -1
 				&& (m_type == TYPE_TABLE || m_type == TYPE_PMT || m_type == TYPE_SERIESPMT)) {
-			mItem = new JMenuItem(mm.getMessage("jtablevalue.editformat")); // иʽ༭
+			mItem = new JMenuItem(mm.getMessage("jtablevalue.editformat")); // 列格式编辑
 			mItem.setIcon(GM.getMenuImageIcon("blank"));
 			mItem.setName(String.valueOf(iFORMAT));
 			mItem.addActionListener(popAction);
 			pm.add(mItem);
 		}
-		mItem = new JMenuItem(LABEL_COPY_COLUMN); // 
+		mItem = new JMenuItem(LABEL_COPY_COLUMN); // 复制列名
 		mItem.setIcon(GM.getMenuImageIcon("blank"));
 		mItem.setName(String.valueOf(iCOPY_COLNAMES));
 		mItem.addActionListener(popAction);
@@ -440,15 +440,15 @@ public class JTableValue extends JTableEx {
 		pm.show(e.getComponent(), e.getX(), e.getY());
 	}
 
-	/**  */
+	/** 复制列名 */
 	public static final String LABEL_COPY_COLUMN = mm
 			.getMessage("jtablevalue.copycolnames");
-	/** 鿴ı */
+	/** 查看长文本 */
 	public static final String LABEL_VIEW_TEXT = mm
 			.getMessage("dialogtexteditor.title1");
 
 	/**
-	 * Ҽ˵¼
+	 * 右键菜单事件监听
 	 */
 	private ActionListener popAction = new ActionListener() {
 		public void actionPerformed(ActionEvent e) {
@@ -472,7 +472,7 @@ public class JTableValue extends JTableEx {
 	};
 
 	/**
-	 * иʽ༭
+	 * 列格式编辑
 	 */
 	private void colFormat() {
 		int col = getSelectedColumn();
@@ -498,12 +498,12 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * иʽ
+	 * 设置列格式
 	 * 
 	 * @param col
-	 *            к
+	 *            列号
 	 * @param format
-	 *            ʽ
+	 *            格式
 	 */
 	private void setColFormat(int col, String format) {
 		TableColumn tc = getColumn(col);
@@ -513,14 +513,14 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ˢ
+	 * 刷新
 	 */
 	public void refresh() {
 		forceSetValue(value);
 	}
 
 	/**
-	 * ֵǷnull
+	 * 值是否null
 	 * 
 	 * @return
 	 */
@@ -529,10 +529,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * Ƿģʽ
+	 * 设置是否计算模式锁
 	 * 
 	 * @param locked1
-	 *            Ƿģʽ
+	 *            是否计算模式锁
 	 */
 	public void setLocked1(boolean locked1) {
 		this.isLocked1 = locked1;
@@ -540,7 +540,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * Ƿģʽ
+	 * 是否计算模式锁
 	 * 
 	 * @return
 	 */
@@ -549,10 +549,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ǷԪ
+	 * 设置是否锁定单元格
 	 * 
 	 * @param locked
-	 *            ǷԪ
+	 *            是否锁定单元格
 	 */
 	public void setLocked(boolean locked) {
 		this.isLocked = locked;
@@ -560,7 +560,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡǷԪ
+	 * 取是否锁定单元格
 	 * 
 	 * @return
 	 */
@@ -569,10 +569,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * αȡ
+	 * 游标取数
 	 * 
 	 * @param dispRows
-	 *            ʾ
+	 *            显示行数
 	 */
 	public void cursorFetch(int dispRows) {
 		if (originalValue == null || !(originalValue instanceof ICursor)
@@ -580,12 +580,12 @@ public class JTableValue extends JTableEx {
 			return;
 		}
 		ICursor cursor = (ICursor) originalValue;
-		Sequence data = cursor.peek(dispRows); // ʵʴαȡ
+		Sequence data = cursor.peek(dispRows); // 不实际从游标取数
 		forceSetValue(data);
 	}
 
 	/**
-	 * 갴¼
+	 * 鼠标按键事件
 	 */
 	public void mousePressed(MouseEvent e) {
 		refreshValueButton();
@@ -604,14 +604,14 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ˢ°ť״̬
+	 * 刷新按钮状态
 	 */
 	private void refreshValueButton() {
 		panelValue.valueBar.refresh();
 	}
 
 	/**
-	 * ѡ״̬
+	 * 重置选择状态
 	 */
 	private void resetSelection() {
 		ListSelectionModel selectModel = getSelectionModel();
@@ -630,21 +630,21 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * 
+	 * 重置数据
 	 * 
 	 * @param index
-	 *            ʼк
+	 *            开始行号
 	 */
 	public void resetData(int index) {
 		resetData(index, false);
 	}
 
 	/**
-	 * 
+	 * 重置数据
 	 * 
 	 * @param index
-	 *            ʼк
-	 * @param isFirst Ƿһֵ
+	 *            开始行号
+	 * @param isFirst 是否第一次设置值
 	 */
 	public void resetData(int index, boolean isFirst) {
 		dispStartIndex = index;
@@ -681,43 +681,43 @@ public class JTableValue extends JTableEx {
 	private final int DISP_ROWS = 50;
 
 	/**
-	 * ߳ʵ
+	 * 线程实例
 	 */
 	private ResetDataThread resetThread = null;
 
 	/**
-	 * ()ݵ߳
+	 * 设置序列(排列)数据的线程
 	 *
 	 */
 	class ResetDataThread extends Thread {
 		/**
-		 * ж
+		 * 序列对象
 		 */
 		Sequence seq;
 		/**
-		 * ʼ
+		 * 开始行
 		 */
 		int index;
 		/**
-		 * 
+		 * 数据类型
 		 */
 		byte dataType;
 		/**
-		 * ǷֹͣˣǷ
+		 * 是否停止了，是否完成了
 		 */
 		boolean isStoped = false, isFinished = false;
 
 		boolean isFirst = false;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * 
 		 * @param s
-		 *            
+		 *            序列
 		 * @param index
-		 *            ʼ
+		 *            开始行
 		 * @param dataType
-		 *            
+		 *            类型
 		 */
 		ResetDataThread(Sequence s, int index, byte dataType) {
 			this.seq = s;
@@ -730,7 +730,7 @@ public class JTableValue extends JTableEx {
 		}
 
 		/**
-		 * ִ
+		 * 执行
 		 */
 		public void run() {
 			try {
@@ -791,7 +791,7 @@ public class JTableValue extends JTableEx {
 						}
 					}
 				}
-				if (isFirst) { // Ӧп
+				if (isFirst) { // 自适应列宽
 					FontMetrics fm = getFontMetrics(getFont());
 					int cc = getColumnCount();
 					int rc = getRowCount();
@@ -825,7 +825,7 @@ public class JTableValue extends JTableEx {
 		}
 
 		/**
-		 * ֹͣ߳
+		 * 停止线程
 		 */
 		void stopThread() {
 			seq = null;
@@ -833,7 +833,7 @@ public class JTableValue extends JTableEx {
 		}
 
 		/**
-		 * ǷѾ
+		 * 是否已经完成
 		 * 
 		 * @return
 		 */
@@ -843,14 +843,14 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ü¼һ
+	 * 设置记录到表格的一行
 	 * 
 	 * @param record
 	 * @param r
 	 * @param isSeq
 	 * @param index
 	 * @param isDup
-	 *            Ƿظ
+	 *            是否有重复列名
 	 */
 	private void setRecordRow(BaseRecord record, int r, boolean isSeq,
 			int index, boolean isDup) {
@@ -871,14 +871,14 @@ public class JTableValue extends JTableEx {
 			DataStruct ds = record.dataStruct();
 			String[] colNames = ds.getFieldNames();
 			if (colNames != null) {
-				if (isDup) { // ֧ʾظ
+				if (isDup) { // 支持显示重复列名的排列
 					HashMap<String, Integer> map = new HashMap<String, Integer>();
 					Object val;
 					for (int j = 0; j < colNames.length; j++) {
 						try {
 							val = record.getFieldValue(j);
 						} catch (Throwable e) {
-							// ȡʾ
+							// 取不到的显示空
 							val = null;
 						}
 						Integer colIndex = map.get(colNames[j]);
@@ -900,7 +900,7 @@ public class JTableValue extends JTableEx {
 						try {
 							val = record.getFieldValue(colNames[j]);
 						} catch (Throwable e) {
-							// ȡʾ
+							// 取不到的显示空
 							val = null;
 						}
 						int col = getColumnIndex(colNames[j], isSeq ? 1 : 0);
@@ -914,12 +914,12 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡ
+	 * 根据列名取列序号
 	 * 
 	 * @param colName
-	 *            
+	 *            列名
 	 * @param startIndex
-	 *            ʼ
+	 *            开始列
 	 * @return
 	 */
 	private int getColumnIndex(String colName, int startIndex) {
@@ -927,14 +927,14 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡ
+	 * 根据列名取列序号
 	 * 
 	 * @param colName
-	 *            
+	 *            列名
 	 * @param startIndex
-	 *            ʼ
+	 *            开始列
 	 * @param colIndex
-	 *            ظĴ
+	 *            重复列名的次数
 	 * @return
 	 */
 	private int getColumnIndex(String colName, int startIndex, int colIndex) {
@@ -953,7 +953,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * Ƿظ
+	 * 是否有重复列名
 	 * 
 	 * @return
 	 */
@@ -972,7 +972,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ԪǷԱ༭
+	 * 单元格是否可以编辑
 	 */
 	public boolean isCellEditable(int row, int column) {
 		switch (m_type) {
@@ -998,7 +998,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * 
+	 * 清理
 	 */
 	public void clear() {
 		undo.clear();
@@ -1009,7 +1009,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * õԪ
+	 * 设置单元格名称
 	 * 
 	 * @param id
 	 */
@@ -1021,7 +1021,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡԪ
+	 * 取单元格名称
 	 * 
 	 * @return
 	 */
@@ -1030,20 +1030,20 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * õԪֵ
+	 * 设置单元格值
 	 * 
 	 * @param value
-	 *            Ԫֵ
+	 *            单元格值
 	 */
 	public void setValue(Object value) {
 		setValue(value, false);
 	}
 
 	/**
-	 * õԪֵȽͬһԪֵͬͲظ
+	 * 设置单元格值，比较如果同一个单元格同样格值，就不重复设置了
 	 * 
 	 * @param value
-	 *            Ԫֵ
+	 *            单元格值
 	 */
 	public void setValue(Object value, String cellId) {
 		if (cellId != null && cellId.equals(getCellId())) {
@@ -1055,12 +1055,12 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * õԪֵ״̬
+	 * 立即设置单元格值，不考虑锁定状态
 	 * 
 	 * @param value
-	 *            Ԫֵ
+	 *            单元格值
 	 * @param id
-	 *            Ԫ
+	 *            单元格名称
 	 */
 	public void setValue1(Object value, String id) {
 		if (id != null && id.equals(getCellId())) {
@@ -1074,26 +1074,26 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * õԪֵ
+	 * 设置单元格值
 	 * 
 	 * @param value
-	 *            Ԫֵ
+	 *            单元格值
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 */
 	public void setValue(Object value, boolean editable) {
 		setValue(value, editable, false);
 	}
 
 	/**
-	 * õԪֵ
+	 * 设置单元格值
 	 * 
 	 * @param value
-	 *            Ԫֵ
+	 *            单元格值
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 * @param forceSetValue
-	 *            Ƿ״̬ǿøֵ
+	 *            是否无视锁定状态，强行设置格值
 	 */
 	private synchronized void setValue(Object value, boolean editable,
 			final boolean forceSetValue) {
@@ -1102,16 +1102,16 @@ public class JTableValue extends JTableEx {
 
 	/**
 	 * 
-	 * õԪֵ
+	 * 设置单元格值
 	 * 
 	 * @param value
-	 *            Ԫֵ
+	 *            单元格值
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 * @param forceSetValue
-	 *            Ƿ״̬ǿøֵ
+	 *            是否无视锁定状态，强行设置格值
 	 * @param dispStartRow
-	 *            ʾʼ
+	 *            显示开始行
 	 */
 	private synchronized void setValue(Object value, boolean editable,
 			final boolean forceSetValue, UndoObject uo) {
@@ -1145,7 +1145,7 @@ public class JTableValue extends JTableEx {
 		}
 		boolean isCursor = false;
 		if (originalValue != null && originalValue instanceof ICursor) {
-			if (!(originalValue instanceof IMultipath)) // ֶ֧·α
+			if (!(originalValue instanceof IMultipath)) // 不支持多路游标
 				isCursor = true;
 		}
 		panelValue.setCursorValue(isCursor);
@@ -1158,7 +1158,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡԭʼֵ
+	 * 取原始值
 	 * 
 	 * @return
 	 */
@@ -1167,17 +1167,17 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ʾʼ
+	 * 显示的起始行
 	 */
 	private int dispStartIndex = 1;
 
 	/**
-	 * ֵ
+	 * 重设格值
 	 * 
 	 * @param forceSetValue
-	 *            ǿøֵ
+	 *            强行设置格值
 	 * @param aValue
-	 *            ֵ
+	 *            值
 	 */
 	private synchronized void resetValue(boolean forceSetValue, Object aValue,
 			int dispStartIndex) {
@@ -1188,10 +1188,10 @@ public class JTableValue extends JTableEx {
 				redo.clear();
 			}
 			refreshValueButton();
-			// nullʾ(null)ֻûҳʱŲʾ
+			// null格子显示成(null)，只有没打开页面时才不显示
 			if (GV.appSheet == null) {
 				if (aValue == null) {
-					// nullĻresetDataǰر
+					// 不是null的会在resetData前关闭
 					if (resetThread != null) {
 						resetThread.stopThread();
 						try {
@@ -1246,7 +1246,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化表格控件
 	 */
 	private void initJTable() {
 		removeAllRows();
@@ -1255,10 +1255,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡֵ
+	 * 取值的类型
 	 * 
 	 * @param value
-	 *            ֵ
+	 *            值
 	 * @return
 	 */
 	private byte getValueType(Object value) {
@@ -1270,7 +1270,7 @@ public class JTableValue extends JTableEx {
 				setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
 				return TYPE_PMT;
 			}
-			// УǴУͨнʾ
+			// 排列（非纯排列）按照普通序列进行显示
 			// else if (((Sequence) value).isPmt()) {
 			// setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
 			// return TYPE_SERIESPMT;
@@ -1293,10 +1293,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化序表
 	 * 
 	 * @param table
-	 *            
+	 *            序表
 	 * @return
 	 */
 	private int initTable(Table table) {
@@ -1307,10 +1307,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化纯排列
 	 * 
 	 * @param pmt
-	 *            
+	 *            纯排列
 	 * @return
 	 */
 	private int initPmt(Sequence pmt) {
@@ -1321,7 +1321,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化排列
 	 * 
 	 * @param pmt
 	 * @return
@@ -1334,7 +1334,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡһݽṹﲻifnҪҵһнṹļ¼
+	 * 取第一个数据结构。这里不能用ifn，要找到第一个有结构的记录
 	 * 
 	 * @return
 	 */
@@ -1353,7 +1353,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化序列
 	 * 
 	 * @param series
 	 * @return
@@ -1376,10 +1376,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ʼ¼
+	 * 初始化记录
 	 * 
 	 * @param record
-	 *            ¼
+	 *            记录
 	 * @return
 	 */
 	private int initRecord(BaseRecord record) {
@@ -1395,12 +1395,12 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否主键
 	 * 
 	 * @param primaries
-	 *            
+	 *            主键数组
 	 * @param colName
-	 *            ֶ
+	 *            字段名
 	 * @return
 	 */
 	private boolean isPrimary(String[] primaries, String colName) {
@@ -1416,12 +1416,12 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ñ༭
+	 * 设置编辑风格
 	 * 
 	 * @param ds
-	 *            ݽṹ
+	 *            数据结构
 	 * @param hasIndex
-	 *            Ƿ
+	 *            是否有序号列
 	 */
 	private void setEditStyle(DataStruct ds, boolean hasIndex) {
 		if (ds == null)
@@ -1439,7 +1439,7 @@ public class JTableValue extends JTableEx {
 			} else {
 				tc = getColumn(i);
 			}
-			// ܱ༭
+			// 主键不能编辑
 			boolean isPrimary = isPrimary(primaries, cols[i]);
 			boolean editable = !isPrimary;
 			tc.setCellEditor(getAllPurposeEditor(editable));
@@ -1453,18 +1453,18 @@ public class JTableValue extends JTableEx {
 		}
 	}
 
-	private final int MAX_COL_WIDTH = 300; // ݱȽϳʱʾĿ
+	private final int MAX_COL_WIDTH = 300; // 列内容比较长时，最大显示的宽度
 	private final int WIDTH_GAP = 8;
 
 	/**
-	 * ñ
+	 * 设置表格的列
 	 * 
 	 * @param ds
-	 *            ݽṹ
+	 *            数据结构
 	 * @param len
-	 *            ݳȣڼп
+	 *            数据长度，用于计算序号列宽度
 	 * @param hasIndexCol
-	 *            Ƿ
+	 *            是否有序号列
 	 */
 	private synchronized void setTableColumns(DataStruct ds, int len,
 			boolean hasIndexCol) {
@@ -1493,7 +1493,7 @@ public class JTableValue extends JTableEx {
 				INDEX_WIDTH = 0;
 			}
 
-			// ݱⳤп
+			// 根据标题长度设置列宽
 			int[] pkIndex = ds.getPKIndex();
 			final int IMAGE_WIDTH = 35;
 			final int startCol = hasIndexCol ? 1 : 0;
@@ -1517,7 +1517,7 @@ public class JTableValue extends JTableEx {
 				totalColWidth += getColumn(i).getWidth();
 			}
 			int width = getParent().getWidth();
-			if (totalColWidth < width && cc > 0) { // ʾ£ʣƽ䵽
+			if (totalColWidth < width && cc > 0) { // 如果所有列显示的下，将剩余宽度平均分配到各列
 				int aveWidth;
 				width -= totalColWidth;
 				if (cc > 1 && hasIndexCol) {
@@ -1536,7 +1536,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * п
+	 * 设置列宽
 	 * @param tc
 	 * @param colWidth
 	 */
@@ -1545,7 +1545,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * п
+	 * 设置列宽
 	 * @param tc
 	 * @param colWidth
 	 */
@@ -1558,7 +1558,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * еȾ
+	 * 主键列的渲染器
 	 */
 	class PKRenderer extends DefaultTableCellRenderer {
 		private static final long serialVersionUID = 1L;
@@ -1584,12 +1584,12 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * Ƿ
+	 * 列是否主键
 	 * 
 	 * @param pkIndex
-	 *            
+	 *            主键序号
 	 * @param index
-	 *            
+	 *            列序号
 	 * @return
 	 */
 	private boolean isPK(int[] pkIndex, int index) {
@@ -1603,7 +1603,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡп
+	 * 取序号列宽
 	 * 
 	 * @param len
 	 * @return
@@ -1619,7 +1619,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * 쳣ǲӰʾ⴦һ
+	 * 总是输出异常但是不影响显示，特殊处理一下
 	 */
 	private void setColumnModel() {
 		this.setColumnModel(new DefaultTableColumnModel() {
@@ -1636,21 +1636,21 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * DBInfoӦ
+	 * DBInfo对象对应的序表
 	 */
 	private Table dbTable = null;
 
 	/**
-	 * ʼDBInfo
+	 * 初始化DBInfo对象
 	 * 
 	 * @param db
-	 *            DBInfo
+	 *            DBInfo对象
 	 * @return
 	 */
 	private int initDB(DBObject db) {
 		dbTable = GMSpl.getDBTable(db);
-		addColumn(GMSpl.TITLE_NAME); // 
-		addColumn(GMSpl.TITLE_PROP); // 
+		addColumn(GMSpl.TITLE_NAME); // 名称
+		addColumn(GMSpl.TITLE_PROP); // 属性
 		for (int i = 0; i < this.getColumnCount(); i++) {
 			setColumnEditable(i, false);
 		}
@@ -1662,10 +1662,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * DBInfo󵽱
+	 * 设置DBInfo对象到表格
 	 * 
 	 * @param db
-	 *            DBInfo
+	 *            DBInfo对象
 	 */
 	// private void initDBTable(DBObject db) {
 	// DBInfo info = db.getDbSession().getInfo();
@@ -1692,10 +1692,10 @@ public class JTableValue extends JTableEx {
 	// }
 
 	/**
-	 * ʼFileObject
+	 * 初始化FileObject对象
 	 * 
 	 * @param file
-	 *            FileObject
+	 *            FileObject对象
 	 * @return
 	 */
 	private int initFile(FileObject file) {
@@ -1704,10 +1704,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ʼֵͨ
+	 * 初始化普通值
 	 * 
 	 * @param value
-	 *            ֵͨ
+	 *            普通值
 	 * @return
 	 */
 	private int initDefault(Object value) {
@@ -1716,7 +1716,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ʼֵ
+	 * 初始化单独的值
 	 * 
 	 * @param value
 	 * @return
@@ -1733,7 +1733,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡֵı༭
+	 * 取多类型值的编辑器
 	 * 
 	 * @return
 	 */
@@ -1742,10 +1742,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡֵı༭
+	 * 取多类型值的编辑器
 	 * 
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 * @return
 	 */
 	public AllPurposeEditor getAllPurposeEditor(boolean editable) {
@@ -1759,7 +1759,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ʾֵ
+	 * 显示格值
 	 */
 	public void dispCellValue() {
 		int r = getSelectedRow();
@@ -1768,12 +1768,12 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡԱֵ
+	 * 钻取成员值
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 */
 	private void drillValue(int row, int col) {
 		if (editable) {
@@ -1795,7 +1795,7 @@ public class JTableValue extends JTableEx {
 			if (temp instanceof BaseRecord) {
 				BaseRecord r = (BaseRecord) temp;
 				if (r.dataStruct() != null && s.dataStruct() != null
-						&& !r.dataStruct().isCompatible(s.dataStruct())) { // 칹
+						&& !r.dataStruct().isCompatible(s.dataStruct())) { // 异构排列
 					newValue = temp;
 				} else if ((TYPE_SERIES == m_type || TYPE_SERIESPMT == m_type)) {
 					newValue = temp;
@@ -1811,7 +1811,7 @@ public class JTableValue extends JTableEx {
 				return;
 			}
 		}
-		if (newValue.equals(value)) { // ȡԪǱʱ
+		if (newValue.equals(value)) { // 钻取的元素是本身时
 			return;
 		}
 		redo.clear();
@@ -1821,7 +1821,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ǿֵ״̬
+	 * 强行设置值，不考虑锁的状态
 	 * 
 	 * @param newValue
 	 */
@@ -1830,7 +1830,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ǷԳ
+	 * 是否可以撤回
 	 * 
 	 * @return
 	 */
@@ -1839,7 +1839,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否可以重做
 	 * 
 	 * @return
 	 */
@@ -1848,7 +1848,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * 
+	 * 撤回
 	 */
 	public void undo() {
 		UndoObject uo = getUndoObject();
@@ -1859,7 +1859,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * 
+	 * 重做
 	 */
 	public void redo() {
 		UndoObject uo = getUndoObject();
@@ -1891,7 +1891,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * Իͳͼ
+	 * 可以绘制统计图
 	 * 
 	 * @return
 	 */
@@ -1915,7 +1915,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * Ƿʾı
+	 * 是否可以显示长文本
 	 * 
 	 * @return
 	 */
@@ -1930,7 +1930,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡݵʼ
+	 * 取复制数据的起始列
 	 * 
 	 * @return
 	 */
@@ -1946,13 +1946,13 @@ public class JTableValue extends JTableEx {
 		}
 		int startCol = 0;
 		if (isSeq) {
-			startCol = 1; // 
+			startCol = 1; // 序号
 		}
 		return startCol;
 	}
 
 	/**
-	 * б
+	 * 复制列标题
 	 */
 	public void copyColumnNames() {
 		StringBuffer buf = new StringBuffer();
@@ -1965,7 +1965,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * 
+	 * 复制数据
 	 * 
 	 * @return
 	 */
@@ -1974,10 +1974,10 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * 
+	 * 复制数据
 	 * 
 	 * @param copyTitle
-	 *            ǷƱ
+	 *            是否复制标题
 	 * @return
 	 */
 	public boolean copyValue(boolean copyTitle) {
@@ -2100,7 +2100,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ճ
+	 * 粘贴数据
 	 */
 	public void pasteValue() {
 		if (!editable) {
@@ -2128,7 +2128,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ͼ
+	 * 绘制图形
 	 */
 	public void drawChart() {
 		if (!canDrawChart())
@@ -2151,7 +2151,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * 鿴ı
+	 * 查看长文本
 	 */
 	public void showText() {
 		int row = getSelectedRow();
@@ -2172,14 +2172,14 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * øӻݾ󵽱
+	 * 设置格子或数据矩阵到表格
 	 * 
 	 * @param matrix
-	 *            ݾ
+	 *            数据矩阵
 	 * @param row
-	 *            ʼ
+	 *            起始行
 	 * @param col
-	 *            ʼ
+	 *            起始列
 	 */
 	private void setMatrix2Table(Matrix matrix, int row, int col) {
 		int rowCount = matrix.getRowSize();
@@ -2211,7 +2211,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡԪֵ
+	 * 取单元格值
 	 */
 	public Object getValueAt(int row, int col) {
 		try {
@@ -2222,7 +2222,7 @@ public class JTableValue extends JTableEx {
 	}
 
 	/**
-	 * ȡߴС
+	 * 取尺寸大小
 	 */
 	public Dimension getPreferredSize() {
 		try {
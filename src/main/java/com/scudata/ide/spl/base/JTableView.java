@@ -43,73 +43,73 @@ import com.scudata.util.Variant;
 public abstract class JTableView extends JTableEx {
 	private static final long serialVersionUID = 1;
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	private MessageManager mm = IdeSplMessage.get();
 
 	/**
-	 * Ա
+	 * 成员
 	 */
 	private final String COL_SERIES = mm.getMessage("jtablevalue.menber");
 
-	/** ȱʡ */
+	/** 缺省 */
 	private final byte TYPE_DEFAULT = 0;
-	/**  */
+	/** 序表 */
 	private final byte TYPE_TABLE = 1;
-	/**  */
+	/** 序列 */
 	private final byte TYPE_SERIES = 2;
-	/** ¼ */
+	/** 记录 */
 	private final byte TYPE_RECORD = 3;
-	/**  */
+	/** 纯排列 */
 	private final byte TYPE_PMT = 4;
-	/** Уʱãͨнʾ */
+	/** 排列，暂时弃用，按照普通序列进行显示 */
 	private final byte TYPE_SERIESPMT = 5;
-	/** DBInfo */
+	/** DBInfo对象 */
 	private final byte TYPE_DB = 6;
-	/** FileObject */
+	/** FileObject对象 */
 	private final byte TYPE_FILE = 7;
 	/**
-	 * ֵ
+	 * 值类型
 	 */
 	private byte m_type = TYPE_DEFAULT;
 
 	/**
-	 * һ
+	 * 第一列
 	 */
 	private final int COL_FIRST = 0;
 
 	/**
-	 * ֵ
+	 * 值
 	 */
 	private Object value;
 
 	/**
-	 * ȡͷصĶջ
+	 * 用于数据钻取和返回的堆栈
 	 */
 	private Stack<Object> undo = new Stack<Object>();
 	private Stack<Object> redo = new Stack<Object>();
 
-	/** ֵ */
+	/** 复制值 */
 	private final short iCOPY = 11;
-	/** иʽ */
+	/** 设置列格式 */
 	private final short iFORMAT = 17;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public JTableView() {
 		super();
 	}
 
 	/**
-	 * ˫ʱȡ
+	 * 鼠标双击时钻取数据
 	 */
 	public void doubleClicked(int xpos, int ypos, int row, int col, MouseEvent e) {
 		drillValue(row, col);
 	}
 
 	/**
-	 * Ҽ˵
+	 * 鼠标右键菜单
 	 */
 	public void rightClicked(int xpos, int ypos, int row, int col, MouseEvent e) {
 		JPopupMenu pm = new JPopupMenu();
@@ -117,7 +117,7 @@ public abstract class JTableView extends JTableEx {
 		int selectedRow = getSelectedRow();
 		int selectedCol = getSelectedColumn();
 		boolean selectCell = selectedRow != -1 && selectedCol != -1;
-		mItem = new JMenuItem(mm.getMessage("jtablevalue.copy")); // 
+		mItem = new JMenuItem(mm.getMessage("jtablevalue.copy")); // 复制
 		mItem.setIcon(GM.getMenuImageIcon("copy"));
 		mItem.setName(String.valueOf(iCOPY));
 		mItem.addActionListener(popAction);
@@ -126,7 +126,7 @@ public abstract class JTableView extends JTableEx {
 
 		if (selectedCol > -1
 				&& (m_type == TYPE_TABLE || m_type == TYPE_PMT || m_type == TYPE_SERIESPMT)) {
-			mItem = new JMenuItem(mm.getMessage("jtablevalue.editformat")); // иʽ༭
+			mItem = new JMenuItem(mm.getMessage("jtablevalue.editformat")); // 列格式编辑
 			mItem.setIcon(GM.getMenuImageIcon("blank"));
 			mItem.setName(String.valueOf(iFORMAT));
 			mItem.addActionListener(popAction);
@@ -138,7 +138,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * Ҽ˵¼
+	 * 右键菜单事件监听
 	 */
 	private ActionListener popAction = new ActionListener() {
 		public void actionPerformed(ActionEvent e) {
@@ -156,7 +156,7 @@ public abstract class JTableView extends JTableEx {
 	};
 
 	/**
-	 * иʽ༭
+	 * 列格式编辑
 	 */
 	private void colFormat() {
 		int col = getSelectedColumn();
@@ -182,10 +182,10 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * иʽ
+	 * 设置列格式
 	 * 
-	 * @param col    к
-	 * @param format ʽ
+	 * @param col    列号
+	 * @param format 格式
 	 */
 	private void setColFormat(int col, String format) {
 		TableColumn tc = getColumn(col);
@@ -195,14 +195,14 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ˢ
+	 * 刷新
 	 */
 	public void refresh() {
 		privateAction(value);
 	}
 
 	/**
-	 * ֵǷnull
+	 * 值是否null
 	 * 
 	 * @return
 	 */
@@ -211,12 +211,12 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ˢ°ť״̬
+	 * 刷新按钮状态
 	 */
 	public abstract void refreshValueButton();
 
 	/**
-	 * 
+	 * 设置数据
 	 */
 	public void setData() {
 		if (resetThread != null) {
@@ -245,12 +245,12 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ߳ʵ
+	 * 线程实例
 	 */
 	private ResetDataThread resetThread = null;
 
 	/**
-	 * ()ݵ߳
+	 * 设置序列(排列)数据的线程
 	 *
 	 */
 	class ResetDataThread extends Thread {
@@ -300,10 +300,10 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ȡ¼
+	 * 获取记录的数据
 	 * 
-	 * @param record ¼
-	 * @param r      к
+	 * @param record 记录对象
+	 * @param r      行号
 	 * @return
 	 */
 	private Object[] getRecordData(BaseRecord record, int r) {
@@ -324,7 +324,7 @@ public abstract class JTableView extends JTableEx {
 					try {
 						val = record.getFieldValue(nNames[j]);
 					} catch (Exception e) {
-						// ȡʾ
+						// 取不到的显示空
 						val = null;
 					}
 					int col = getColumnIndex(nNames[j]);
@@ -337,14 +337,14 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ԪǷԱ༭
+	 * 单元格是否可以编辑
 	 */
 	public boolean isCellEditable(int row, int column) {
 		return false;
 	}
 
 	/**
-	 * 
+	 * 清理
 	 */
 	public void clear() {
 		undo.clear();
@@ -354,19 +354,19 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * õԪֵ
+	 * 设置单元格值
 	 * 
-	 * @param value Ԫֵ
+	 * @param value 单元格值
 	 */
 	public void setValue(Object value) {
 		setValue(value, false);
 	}
 
 	/**
-	 * õԪֵ
+	 * 设置单元格值
 	 * 
-	 * @param value         Ԫֵ
-	 * @param privateAction Ƿڲö
+	 * @param value         单元格值
+	 * @param privateAction 是否内部设置动作
 	 */
 	private synchronized void setValue(Object value, boolean privateAction) {
 		this.value = value;
@@ -422,7 +422,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化表格控件
 	 */
 	private void initJTable() {
 		removeAllRows();
@@ -440,9 +440,9 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ȡֵ
+	 * 取值的类型
 	 * 
-	 * @param value ֵ
+	 * @param value 值
 	 * @return
 	 */
 	private byte getValueType(Object value) {
@@ -467,9 +467,9 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化序表
 	 * 
-	 * @param table 
+	 * @param table 序表
 	 * @return
 	 */
 	private int initTable(Table table) {
@@ -480,9 +480,9 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化纯排列
 	 * 
-	 * @param pmt 
+	 * @param pmt 纯排列
 	 * @return
 	 */
 	private int initPmt(Sequence pmt) {
@@ -493,7 +493,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化排列
 	 * 
 	 * @param pmt
 	 * @return
@@ -506,7 +506,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化序列
 	 * 
 	 * @param series
 	 * @return
@@ -521,9 +521,9 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ʼ¼
+	 * 初始化记录
 	 * 
-	 * @param record ¼
+	 * @param record 记录
 	 * @return
 	 */
 	private int initRecord(BaseRecord record) {
@@ -539,9 +539,9 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ñ༭
+	 * 设置编辑风格
 	 * 
-	 * @param ds ݽṹ
+	 * @param ds 数据结构
 	 */
 	private void setEditStyle(DataStruct ds) {
 		String cols[] = ds.getFieldNames();
@@ -559,9 +559,9 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ñ
+	 * 设置表格的列
 	 * 
-	 * @param ds ݽṹ
+	 * @param ds 数据结构
 	 */
 	private void setTableColumns(DataStruct ds) {
 		String nNames[] = ds.getFieldNames();
@@ -573,25 +573,25 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * DBInfoӦ
+	 * DBInfo对象对应的序表
 	 */
 	private Table dbTable = null;
 
-	/**  */
+	/** 属性名 */
 	private final String TITLE_NAME = mm.getMessage("jtablevalue.name");
-	/** ֵ */
+	/** 属性值 */
 	private final String TITLE_PROP = mm.getMessage("jtablevalue.property");
 
 	/**
-	 * ʼDBInfo
+	 * 初始化DBInfo对象
 	 * 
-	 * @param db DBInfo
+	 * @param db DBInfo对象
 	 * @return
 	 */
 	private int initDB(DBObject db) {
 		dbTable = new Table(new String[] { TITLE_NAME, TITLE_PROP });
-		addColumn(TITLE_NAME); // 
-		addColumn(TITLE_PROP); // 
+		addColumn(TITLE_NAME); // 名称
+		addColumn(TITLE_PROP); // 属性
 		for (int i = 0; i < this.getColumnCount(); i++) {
 			setColumnEditable(i, false);
 		}
@@ -602,19 +602,19 @@ public abstract class JTableView extends JTableEx {
 		return dbTable.length();
 	}
 
-	/** Դ */
+	/** 数据源名称 */
 	private final String DB_NAME = mm.getMessage("jtablevalue.dbname");
-	/** û */
+	/** 用户名 */
 	private final String USER = mm.getMessage("jtablevalue.user");
-	/** ݿ */
+	/** 数据库类型 */
 	private final String DB_TYPE = mm.getMessage("jtablevalue.dbtype");
-	/**  */
+	/** 驱动程序 */
 	private final String DRIVER = mm.getMessage("jtablevalue.driver");
-	/** ԴURL */
+	/** 数据源URL */
 	private final String URL = mm.getMessage("jtablevalue.url");
-	/** ģʽ */
+	/** 对象名带模式 */
 	private final String USE_SCHEMA = mm.getMessage("jtablevalue.useschema");
-	/** ޶ */
+	/** 对象名带限定符 */
 	private final String ADD_TILDE = mm.getMessage("jtablevalue.addtilde");
 
 	private void initDBTable(DBObject db) {
@@ -637,9 +637,9 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ʼFileObject
+	 * 初始化FileObject对象
 	 * 
-	 * @param file FileObject
+	 * @param file FileObject对象
 	 * @return
 	 */
 	private int initFile(FileObject file) {
@@ -648,9 +648,9 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ʼֵͨ
+	 * 初始化普通值
 	 * 
-	 * @param value ֵͨ
+	 * @param value 普通值
 	 * @return
 	 */
 	private int initDefault(Object value) {
@@ -659,7 +659,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ʼֵ
+	 * 初始化单独的值
 	 * 
 	 * @param value
 	 * @return
@@ -677,7 +677,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ʾֵ
+	 * 显示格值
 	 */
 	public void dispCellValue() {
 		int r = getSelectedRow();
@@ -686,10 +686,10 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ȡԱֵ
+	 * 钻取成员值
 	 * 
-	 * @param row к
-	 * @param col к
+	 * @param row 行号
+	 * @param col 列号
 	 */
 	private void drillValue(int row, int col) {
 		Object newValue = null;
@@ -703,7 +703,7 @@ public abstract class JTableView extends JTableEx {
 			if (temp instanceof BaseRecord) {
 				BaseRecord r = (BaseRecord) temp;
 				if (r.dataStruct() != null && s.dataStruct() != null
-						&& !r.dataStruct().equals(s.dataStruct())) { // 칹
+						&& !r.dataStruct().equals(s.dataStruct())) { // 异构排列
 					newValue = temp;
 				}
 			}
@@ -717,7 +717,7 @@ public abstract class JTableView extends JTableEx {
 				return;
 			}
 		}
-		if (newValue.equals(value)) { // ȡԪǱʱ
+		if (newValue.equals(value)) { // 钻取的元素是本身时
 			return;
 		}
 		redo.clear();
@@ -727,7 +727,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ڲֵ״̬
+	 * 内部设置值，不考虑锁的状态
 	 * 
 	 * @param newValue
 	 */
@@ -736,7 +736,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ǷԳ
+	 * 是否可以撤回
 	 * 
 	 * @return
 	 */
@@ -745,7 +745,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否可以重做
 	 * 
 	 * @return
 	 */
@@ -754,7 +754,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * 
+	 * 撤回
 	 */
 	public void undo() {
 		redo.push(value);
@@ -763,7 +763,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * 
+	 * 重做
 	 */
 	public void redo() {
 		undo.push(value);
@@ -772,7 +772,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * 
+	 * 复制数据
 	 * 
 	 * @return
 	 */
@@ -814,7 +814,7 @@ public abstract class JTableView extends JTableEx {
 	}
 
 	/**
-	 * ȡԪֵ
+	 * 取单元格值
 	 */
 	public Object getValueAt(int row, int col) {
 		try {
@@ -270,14 +270,14 @@ public abstract class PanelEnv extends JPanel {
 	}
 
 	/**
-	 * ӽڵ
+	 * 增加节点机组件
 	 */
 	protected void addOptComponents(JPanel panelOpt) {
 
 	}
 
 	/**
-	 * ѡⲿĿ¼
+	 * 选择外部库目录
 	 */
 	private void selectExtLibsPath() {
 		DialogExtLibs dialog = new DialogExtLibs(GV.config, parent,
@@ -290,7 +290,7 @@ public abstract class PanelEnv extends JPanel {
 	}
 
 	/**
-	 * ļ
+	 * 检查文件缓存
 	 * 
 	 * @return
 	 */
@@ -319,13 +319,13 @@ public abstract class PanelEnv extends JPanel {
 	}
 
 	/**
-	 * С
+	 * 检查区块大小
 	 * 
 	 * @return
 	 */
 	private boolean checkBlockSize() {
 		if (!GMSpl.isBlockSizeEnabled()) {
-			// ʱУ
+			// 隐藏时候不校验了
 			return true;
 		}
 		String sBlockSize = textBlockSize.getText();
@@ -334,7 +334,7 @@ public abstract class PanelEnv extends JPanel {
 			selectEnvTab();
 			JOptionPane.showMessageDialog(parent, IdeSplMessage.get()
 					.getMessage("dialogoptions.emptyblocksize"));
-			// С
+			// 请输入简表区块大小。
 			// Please input the block size.
 			textBlockSize.setText(Env.getBlockSize() + "");
 			return false;
@@ -342,7 +342,7 @@ public abstract class PanelEnv extends JPanel {
 			selectEnvTab();
 			JOptionPane.showMessageDialog(parent, IdeSplMessage.get()
 					.getMessage("dialogoptions.invalidblocksize"));
-			// СӦΪ4096ֽڵ
+			// 简表区块大小应为正整数，且是4096字节的整数倍。
 			// The block size should be an integer multiple of 4096b.
 			textBlockSize.setText(Env.getBlockSize() + "");
 			return false;
@@ -351,7 +351,7 @@ public abstract class PanelEnv extends JPanel {
 			JOptionPane.showMessageDialog(parent, IdeSplMessage.get()
 					.getMessage("dialogoptions.minblocksize"));
 			textBlockSize.setText(GC.MIN_BUFF_SIZE + "");
-			// Сܵ4096ֽڡ
+			// 简表区块大小不能低于4096字节。
 			// The file buffer size cannot less than 4096 bytes.
 			return false;
 		} else if (blockSize % 4096 != 0) {
@@ -370,7 +370,7 @@ public abstract class PanelEnv extends JPanel {
 	}
 
 	/**
-	 * ȡѰַ·
+	 * 取寻址路径
 	 * 
 	 * @return
 	 */
@@ -386,28 +386,28 @@ public abstract class PanelEnv extends JPanel {
 	}
 
 	private void init(byte type) {
-		jBLogFile.setText(mm.getMessage("dialogoptions.select")); // ѡ
-		jBPath.setText(mm.getMessage("dialogoptions.select")); // ѡ
-		jBMainPath.setText(mm.getMessage("dialogoptions.select")); // ѡ
-		jBTempPath.setText(mm.getMessage("dialogoptions.edit")); // ༭
-		jBExtLibsPath.setText(mm.getMessage("dialogoptions.select")); // ѡ
-		jBInitSpl.setText(mm.getMessage("dialogoptions.select")); // ѡ
-		jBCustomFunctionFile.setText(mm.getMessage("dialogoptions.select")); // ѡ
+		jBLogFile.setText(mm.getMessage("dialogoptions.select")); // 选择
+		jBPath.setText(mm.getMessage("dialogoptions.select")); // 选择
+		jBMainPath.setText(mm.getMessage("dialogoptions.select")); // 选择
+		jBTempPath.setText(mm.getMessage("dialogoptions.edit")); // 编辑
+		jBExtLibsPath.setText(mm.getMessage("dialogoptions.select")); // 选择
+		jBInitSpl.setText(mm.getMessage("dialogoptions.select")); // 选择
+		jBCustomFunctionFile.setText(mm.getMessage("dialogoptions.select")); // 选择
 		textNullStrings.setToolTipText(mm
 				.getMessage("dialogoptions.nullstringstip"));
 
-		// ļڵĿ¼
+		// 集算器文件所在的目录名称
 		jTFPath.setToolTipText(mm.getMessage("dialogoptions.pathtip"));
 		jTFMainPath.setEditable(true);
-		// ·ļԶļĸĿ¼
+		// 相对路径文件和远程文件的根目录
 		jTFMainPath.setToolTipText(mm.getMessage("dialogoptions.mainpathtip"));
-		// ʱļĿ¼Ŀ¼
+		// 临时文件所在目录，必须在主目录内
 		jTFTempPath.setToolTipText(mm.getMessage("dialogoptions.temppathtip"));
 		labelPathNote.setForeground(DialogOptions.NOTE_COLOR);
 		jLInitSpl.setForeground(Color.BLUE);
 		jLCustomFunctionFile.setForeground(Color.BLUE);
 
-		// ļ
+		// 文件
 		panelFile = new JPanel(new GridBagLayout());
 		if (type == TYPE_ESPROC) {
 			panelFile.add(jLabelLog, GM.getGBC(1, 1));
@@ -443,7 +443,7 @@ public abstract class PanelEnv extends JPanel {
 		panelFile.add(jTextCustomFunctionFile, GM.getGBC(8, 2, true));
 		panelFile.add(jBCustomFunctionFile, GM.getGBC(8, 3));
 
-		// ѡ
+		// 选项
 		JPanel panelOpt = new JPanel(new GridBagLayout());
 		panelOpt.add(labelDate, GM.getGBC(1, 1));
 		panelOpt.add(jCBDate, GM.getGBC(1, 2, true));
@@ -657,27 +657,27 @@ public abstract class PanelEnv extends JPanel {
 	}
 
 	/**
-	 * Դ
+	 * 公共资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
-	// ־ļƱǩ
+	// 日志文件名称标签
 	private JLabel jLabelLog = new JLabel(
-			mm.getMessage("dialogoptions.logfile")); // ־ļ
+			mm.getMessage("dialogoptions.logfile")); // 日志文件名称
 
-	// Ѱַ·ǩ
+	// 寻址路径标签
 	private JLabel jLabelSplPath = new JLabel(
-			mm.getMessage("dialogoptions.dfxpath")); // Ѱַ·
-	// ڸʽǩ
-	private JLabel labelDate = new JLabel(mm.getMessage("dialogoptions.date")); // ڸʽ
-	// ʱʽǩ
-	private JLabel labelTime = new JLabel(mm.getMessage("dialogoptions.time")); // ʱʽ
-	// ʱʽǩ
+			mm.getMessage("dialogoptions.dfxpath")); // 寻址路径
+	// 日期格式标签
+	private JLabel labelDate = new JLabel(mm.getMessage("dialogoptions.date")); // 日期格式
+	// 时间格式标签
+	private JLabel labelTime = new JLabel(mm.getMessage("dialogoptions.time")); // 时间格式
+	// 日期时间格式标签
 	private JLabel labelDateTime = new JLabel(
-			mm.getMessage("dialogoptions.datetime")); // ʱʽ
-	// ַǩ
+			mm.getMessage("dialogoptions.datetime")); // 日期时间格式
+	// 字符集标签
 	private JLabel jLabelCharset = new JLabel(
-			mm.getMessage("dialogoptions.defcharset"));// ȱʡַ
+			mm.getMessage("dialogoptions.defcharset"));// 缺省字符集
 	// private JLabel jLabelLocalHost = new JLabel(
 	// mm.getMessage("dialogoptions.labellh"));
 	// private JLabel jLabelLocalPort = new JLabel(
@@ -705,109 +705,109 @@ public abstract class PanelEnv extends JPanel {
 			mm.getMessage("dialogoptions.customfunction"));
 
 	/**
-	 * 
+	 * 日期下拉框
 	 */
 	private JComboBoxEx jCBDate = new JComboBoxEx();
 	/**
-	 * ʱ
+	 * 时间下拉框
 	 */
 	private JComboBoxEx jCBTime = new JComboBoxEx();
 	/**
-	 * ʱ
+	 * 日期时间下拉框
 	 */
 	private JComboBoxEx jCBDateTime = new JComboBoxEx();
 
 	/**
-	 * ַ
+	 * 字符集下拉框
 	 */
 	private JComboBoxEx jCBCharset = new JComboBoxEx();
 	/**
-	 * ༭
+	 * 本机主机名编辑框
 	 */
 	// private JTextField jTextLocalHost = new JTextField();
 	/**
-	 * ˿ڱ༭
+	 * 本机端口编辑框
 	 */
 	// private JTextField jTextLocalPort = new JTextField();
 	/**
-	 * ļС༭
+	 * 文件缓存区大小编辑框
 	 */
 	private JTextField textFileBuffer = new JTextField();
 	/**
-	 * ȱʧֵ༭
+	 * 缺失值定义编辑框
 	 */
 	private JTextField textNullStrings = new JTextField();
 	/**
-	 * ־ļı
+	 * 日志文件名称文本框
 	 */
 	private JTextField jTFLogFileName = new JTextField();
 
 	/**
-	 * Ѱַ·ı
+	 * 寻址路径文本框
 	 */
 	private JTextField jTFPath = new JTextField();
 	/**
-	 * Ŀ¼
+	 * 主目录下拉框
 	 */
 	private JComboBoxEx jTFMainPath = new JComboBoxEx();
 	/**
-	 * ʱĿ¼ı
+	 * 临时目录文本框
 	 */
 	private JTextField jTFTempPath = new JTextField();
 	/**
-	 * ⲿĿ¼
+	 * 外部库根目录
 	 */
 	private JTextField jTFExtLibsPath = new JTextField();
 	/**
-	 * ʼı
+	 * 初始化程序文本框
 	 */
 	private JTextField jTFInitSpl = new JTextField();
 
 	/**
-	 * ѡ־ļť
+	 * 选择日志文件按钮
 	 */
 	private JButton jBLogFile = new JButton();
 
 	/**
-	 * Ѱַ·ť
+	 * 寻址路径按钮
 	 */
 	private JButton jBPath = new JButton();
 	/**
-	 * Ŀ¼ť
+	 * 主目录按钮
 	 */
 	private JButton jBMainPath = new JButton();
 	/**
-	 * ʱļť
+	 * 临时文件按钮
 	 */
 	private JButton jBTempPath = new JButton();
 	/**
-	 * ⲿⰴť
+	 * 外部库按钮
 	 */
 	private JButton jBExtLibsPath = new JButton();
 	/**
-	 * ʼť
+	 * 初始化程序按钮
 	 */
 	private JButton jBInitSpl = new JButton();
 	/**
-	 * Զ庯ť
+	 * 自定义函数按钮
 	 */
 	private JButton jBCustomFunctionFile = new JButton();
 
 	/**
-	 * С༭
+	 * 区块大小编辑框
 	 */
 	private JTextField textBlockSize = new JTextField();
 	/**
-	 * αÿȡ༭
+	 * 游标每次取数编辑框
 	 */
 	private JTextField jTextFetchCount = new JTextField();
 	/**
-	 * Զ庯༭
+	 * 自定义函数编辑框
 	 */
 	private JTextField jTextCustomFunctionFile = new JTextField();
 
 	/**
-	 * ⲿб
+	 * 外部库列表
 	 */
 	private List<String> extLibs = new ArrayList<String>();
 }
\ No newline at end of file
@@ -53,62 +53,62 @@ public class PanelSelectField extends JPanel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * ưť
+	 * 复制按钮
 	 */
 	private JButton jBCopy = new JButton();
 
 	/**
-	 * Ӱť
+	 * 增加按钮
 	 */
 	private JButton jBAdd = new JButton();
 
 	/**
-	 * Ϊֶӱǰ׺
+	 * 为字段名增加表名前缀
 	 */
 	private JCheckBox jCBOpt = new JCheckBox(mm.getMessage("panelselectfield.tablepre"));
 
 	/**
-	 * ڵ
+	 * 根节点
 	 */
 	private IconTreeNode root = new IconTreeNode(mm.getMessage("panelselectfield.dsname"));
 
 	/**
-	 * ģ
+	 * 树模型
 	 */
 	private DefaultTreeModel treeModel = new DefaultTreeModel(root);
 
 	/**
-	 * ؼ
+	 * 树控件
 	 */
 	private JTree mTree = new JTree(treeModel);
 
 	/**
-	 * ֶνļ
+	 * 字段结点的级别
 	 */
 	private final byte LEVEL_FIELD = 3;
 
 	/**
-	 * ʾϢıǩؼ
+	 * 显示信息的标签控件
 	 */
 	private JLabel labelMsg = new JLabel();
 
 	/**
-	 * ݿȡṹ߳
+	 * 数据库取结构的线程
 	 */
 	private Thread dbThread = null;
 
 	/**
-	 * ߳Ƿֹͣ
+	 * 线程是否停止
 	 */
 	private boolean stoped = false;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public PanelSelectField() {
 		init();
@@ -116,7 +116,7 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * û жϣһпӵԴ
+	 * 重置环境。 外层做了判断，一定有可连接的数据源。
 	 */
 	public void resetEnv() {
 		if (dbThread != null) {
@@ -125,7 +125,7 @@ public class PanelSelectField extends JPanel {
 		root.removeAllChildren();
 		treeModel.nodeStructureChanged(root);
 
-		if (!ConfigOptions.bShowDBStruct) // ݿṹ
+		if (!ConfigOptions.bShowDBStruct) // 不加载数据库结构
 			return;
 
 		dbThread = new Thread() {
@@ -183,7 +183,7 @@ public class PanelSelectField extends JPanel {
 											String splName = (String) splNames.get(d);
 											rs = null;
 											try {
-												// δʵ
+												// 尚未实现
 												rs = dbmd.getProcedureColumns(null, null, splName, null);
 												TableConfig tc = new TableConfig();
 												tc.tableName = splName;
@@ -264,10 +264,10 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * ¹ؼ
+	 * 重新构造树控件
 	 * 
-	 * @param dsNames Դ
-	 * @param dsList  б
+	 * @param dsNames 数据源名称
+	 * @param dsList  表配置列表
 	 */
 	private synchronized void rebuildTree(List<String> dsNames, List<ArrayList<TableConfig>> dsList) {
 		root = new IconTreeNode(mm.getMessage("panelselectfield.dsname"));
@@ -316,19 +316,19 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 表配置
 	 */
 	class TableConfig {
 		/**
-		 * 
+		 * 表名
 		 */
 		String tableName;
 		/**
-		 * ֶб
+		 * 字段列表
 		 */
 		Vector<String> fields;
 		/**
-		 * ӳ
+		 * 外键映射
 		 */
 		Map<String, String> fkMap;
 
@@ -337,7 +337,7 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * ȡֶб
+	 * 取表的字段名列表
 	 * 
 	 * @param con
 	 * @return
@@ -370,7 +370,7 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * ȡѡֵ
+	 * 取选择的值
 	 * 
 	 * @return
 	 */
@@ -396,9 +396,9 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * ȡֵ
+	 * 取结点的值
 	 * 
-	 * @param node 
+	 * @param node 树结点
 	 * @return
 	 */
 	private String getNodeValue(IconTreeNode node) {
@@ -418,7 +418,7 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		GridBagConstraints gbc;
@@ -472,7 +472,7 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * ʼť
+	 * 初始化按钮
 	 * 
 	 * @param b
 	 */
@@ -484,7 +484,7 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * ֵ
+	 * 增加值
 	 * 
 	 * @param vals
 	 */
@@ -503,12 +503,12 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * ȡӳ
+	 * 取表的外键映射
 	 * 
-	 * @param ds     Դ
-	 * @param schema ģʽ
-	 * @param table  
-	 * @param con    
+	 * @param ds     数据源
+	 * @param schema 模式名
+	 * @param table  表名
+	 * @param con    连接
 	 * @return
 	 * @throws Throwable
 	 */
@@ -539,7 +539,7 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * ¼
+	 * 增加事件
 	 * 
 	 * @param e
 	 */
@@ -548,7 +548,7 @@ public class PanelSelectField extends JPanel {
 	}
 
 	/**
-	 * ¼
+	 * 复制事件
 	 * 
 	 * @param e
 	 */
@@ -19,34 +19,34 @@ import com.scudata.ide.spl.SheetSpl;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * 鿴ʽ
+ * 查看表达式
  *
  */
 public abstract class PanelSplWatch extends JPanel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ؼĹ
+	 * 表格控件的滚动面板
 	 */
 	private JScrollPane jSPTable = new JScrollPane();
 	/**
-	 * е
+	 * 空行的数量
 	 */
 	private final int BLANK_ROW_COUNT = 1;
 	/**
-	 * ֹ仯
+	 * 阻止变化
 	 */
 	private boolean preventChange = false;
 
-	/**  */
+	/** 序号列 */
 	private final byte COL_INDEX = 0;
-	/** ʽ */
+	/** 表达式列 */
 	private final byte COL_EXP = 1;
-	/** ֵ */
+	/** 值列 */
 	private final byte COL_VALUE = 2;
 
 	/**
-	 * ؼNo.,Expression,Value
+	 * 表格控件。No.,Expression,Value
 	 */
 	private JTableEx tableWatch = new JTableEx(IdeSplMessage.get().getMessage(
 			"paneldfxwatch.tablewatch")) {
@@ -122,7 +122,7 @@ public abstract class PanelSplWatch extends JPanel {
 	};
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public PanelSplWatch() {
 		try {
@@ -141,7 +141,7 @@ public abstract class PanelSplWatch extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 重设表格
 	 * 
 	 * @param requestFocus
 	 */
@@ -187,7 +187,7 @@ public abstract class PanelSplWatch extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 设置网格对象
 	 * 
 	 * @param cs
 	 */
@@ -218,7 +218,7 @@ public abstract class PanelSplWatch extends JPanel {
 	}
 
 	/**
-	 * 鿴ʽֵ
+	 * 查看表达式值
 	 * 
 	 * @param ctx
 	 */
@@ -234,7 +234,7 @@ public abstract class PanelSplWatch extends JPanel {
 	}
 
 	/**
-	 * ݱ仯
+	 * 数据变化了
 	 */
 	private void dataChanged() {
 		if (preventChange) {
@@ -257,7 +257,7 @@ public abstract class PanelSplWatch extends JPanel {
 	public abstract Object watch(String expStr);
 
 	/**
-	 * ¼
+	 * 重新计算
 	 */
 	private synchronized void recalcTable() {
 		SwingUtilities.invokeLater(new Thread() {
@@ -291,7 +291,7 @@ public abstract class PanelSplWatch extends JPanel {
 	}
 
 	/**
-	 * Ƿڼ
+	 * 是否正在计算
 	 * 
 	 * @return
 	 */
@@ -300,7 +300,7 @@ public abstract class PanelSplWatch extends JPanel {
 	}
 
 	/**
-	 * ò鿴ʽǷ
+	 * 设置查看表达式是否可用
 	 * 
 	 * @param enable
 	 */
@@ -24,38 +24,38 @@ import com.scudata.ide.spl.GVSpl;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ֵ
+ * 值面板
  */
 public class PanelValue extends JPanel {
 
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 
+	 * 滚动面板
 	 */
 	public JScrollPane spValue;
 
 	/**
-	 * ؼ
+	 * 表格控件
 	 */
 	public JTableValue tableValue;
 
 	/**
-	 * ֵ
+	 * 值工具条面板
 	 */
 	public PanelValueBar valueBar;
 
 	/**
-	 * 
+	 * 滚动条
 	 */
 	public JScrollBar sbValue;
 
 	/**
-	 * ֹ仯
+	 * 阻止变化
 	 */
 	public boolean preventChange = false;
 	/**
-	 * ִʱ
+	 * 调试执行时间
 	 */
 	private JLabel jLTime = new JLabel();
 
@@ -65,19 +65,19 @@ public class PanelValue extends JPanel {
 			"panelvalue.disprows2"));
 
 	/**
-	 * ʾ
+	 * 显示的最大行数面板
 	 */
 	private JSpinner jSDispRows = new JSpinner(new SpinnerNumberModel(100, 1,
 			Integer.MAX_VALUE, 1));
 
 	/**
-	 * αݰť
+	 * 游标加载数据按钮
 	 */
 	private JButton jBCursorFetch = new JButton(IdeSplMessage.get().getMessage(
-			"panelvalue.cursorfetch")); // 
+			"panelvalue.cursorfetch")); // 加载数据
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public PanelValue() {
 		GVSpl.panelValue = this;
@@ -138,24 +138,24 @@ public class PanelValue extends JPanel {
 		jBCursorFetch.setVisible(isCursor);
 	}
 
-	/**  */
+	/** 调试面板 */
 	private static final String CARD_DEBUG = "CARD_DEBUG";
-	/**  */
+	/** 空面板 */
 	private static final String CARD_EMPTY = "CARD_EMPTY";
 	/**
-	 * лǷʾǩĿƬ
+	 * 用于切换是否显示签名的卡片布局
 	 */
 	private CardLayout cl = new CardLayout();
 	/**
-	 * 塣ʱлΪ
+	 * 调试面板。不调试时切换为空面板
 	 */
 	private JPanel panelSouth = new JPanel(cl);
 
 	/**
-	 * 
+	 * 设置网格
 	 * 
 	 * @param cs
-	 *            
+	 *            网格对象
 	 */
 	public void setCellSet(PgmCellSet cs) {
 		if (cs == null) {
@@ -168,7 +168,7 @@ public class PanelValue extends JPanel {
 	}
 
 	/**
-	 * õִʱ䣬λ
+	 * 设置调试执行时间，单位毫秒
 	 * 
 	 * @param time
 	 */
@@ -182,7 +182,7 @@ public class PanelValue extends JPanel {
 	}
 
 	/**
-	 * ñ༭
+	 * 设置编辑监听器
 	 * 
 	 * @param el
 	 */
@@ -24,127 +24,127 @@ import com.scudata.ide.spl.MenuSpl;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ֵĹ
+ * 值面板的工具条
  *
  */
 public class PanelValueBar extends JPanel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 
+	 * 撤回
 	 */
 	private JButton jBUndo = new JButton();
 	/**
-	 * 
+	 * 重做
 	 */
 	private JButton jBRedo = new JButton();
 	/**
-	 * ֶ
+	 * 字段内容
 	 */
 	private JButton jBCell = new JButton();
 	/**
-	 * 
+	 * 复制数据
 	 */
 	private JButton jBCopy = new JButton();
 	/**
-	 * ֶ
+	 * 复制字段名
 	 */
 	private JButton jBCopyColNames = new JButton();
 
 	/**
-	 * ͼ
+	 * 绘制图形
 	 */
 	private JButton jBDrawChart = new JButton();
 
 	/**
-	 * ʾı
+	 * 显示长文本
 	 */
 	private JButton jBShowText = new JButton();
 
 	/**
-	 * Ԫ
+	 * 单元格坐标
 	 */
 	private JLabel labelCell = new JLabel();
 
 	/**
-	 * ť
+	 * 锁定按钮
 	 */
 	private JToggleButton jBPin = new JToggleButton();
 
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	private MessageManager splMM = IdeSplMessage.get();
 
-	/** ʾ̶ֵ */
+	/** 显示固定格值 */
 	private final String PIN_ON = splMM.getMessage("panelvaluebar.pin1");
-	/** ʾֵ */
+	/** 显示焦点格值 */
 	private final String PIN_OFF = splMM.getMessage("panelvaluebar.pin2");
 
-	/**  */
+	/** 撤回 */
 	private final short iUNDO = 1;
-	/**  */
+	/** 重做 */
 	private final short iREDO = 3;
-	/** ̶ʾԪֵ */
+	/** 固定显示单元格值 */
 	private final short iPIN = 5;
-	/** ֶ */
+	/** 字段内容 */
 	private final short iDRILLCELL = 6;
-	/** ͼ */
+	/** 绘制图形 */
 	private final short iDRAWCHART = 7;
-	/**  */
+	/** 复制数据 */
 	private final short iCOPY = 8;
-	/**  */
+	/** 复制列名 */
 	private final short iCOPY_COLNAMES = 9;
-	/** ʾı */
+	/** 显示长文本 */
 	private final short iSHOW_TEXT = 10;
 
 	/**
-	 * 㼯ļʱҪPinԣҵðť
+	 * 方便集文件浏览集成时，不需要Pin属性，允许灰掉该按钮
 	 */
 	private boolean disablePin = false;
 
 	/**
-	 * 㼯ļʱҪPinԣҵðť
+	 * 方便集文件浏览集成时，不需要Pin属性，允许灰掉该按钮
 	 */
 	public void disablePin() {
 		disablePin = true;
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public PanelValueBar() {
 		setLayout(new GridBagLayout());
 		add(labelCell, getGBC(1, 1, true));
 		jBUndo.setIcon(GM.getImageIcon(GC.IMAGES_PATH + "m_pmtundo.gif"));
-		jBUndo.setToolTipText(splMM.getMessage("panelvaluebar.undo")); // 
+		jBUndo.setToolTipText(splMM.getMessage("panelvaluebar.undo")); // 后退
 		initButton(jBUndo, iUNDO);
 		add(jBUndo, getGBC(1, 2));
 		jBRedo.setIcon(GM.getImageIcon(GC.IMAGES_PATH + "m_pmtredo.gif"));
-		jBRedo.setToolTipText(splMM.getMessage("panelvaluebar.redo")); // ǰ
+		jBRedo.setToolTipText(splMM.getMessage("panelvaluebar.redo")); // 前进
 		initButton(jBRedo, iREDO);
 		add(jBRedo, getGBC(1, 3));
 		jBCell.setIcon(GM.getImageIcon(GC.IMAGES_PATH + "m_pmtcell.gif"));
-		jBCell.setToolTipText(splMM.getMessage("panelvaluebar.cell")); // ֶ
+		jBCell.setToolTipText(splMM.getMessage("panelvaluebar.cell")); // 字段内容
 		initButton(jBCell, iDRILLCELL);
 		add(jBCell, getGBC(1, 4));
 		jBCopy.setIcon(GM.getMenuImageIcon("copy"));
-		jBCopy.setToolTipText(TIP_COPY_CONTENT); // 
+		jBCopy.setToolTipText(TIP_COPY_CONTENT); // 复制
 		initButton(jBCopy, iCOPY);
 		add(jBCopy, getGBC(1, 5));
 
 		jBCopyColNames.setIcon(GM.getMenuImageIcon("coldefine"));
-		jBCopyColNames.setToolTipText(TIP_COPY_COLNAMES); // 
+		jBCopyColNames.setToolTipText(TIP_COPY_COLNAMES); // 复制列名
 		initButton(jBCopyColNames, iCOPY_COLNAMES);
 		add(jBCopyColNames, getGBC(1, 6));
 
 		jBDrawChart.setIcon(GM.getImageIcon(GC.IMAGES_PATH + "m_drawchart.gif"));
-		jBDrawChart.setToolTipText(splMM.getMessage("panelvaluebar.chart")); // ͼλ
+		jBDrawChart.setToolTipText(splMM.getMessage("panelvaluebar.chart")); // 图形绘制
 		initButton(jBDrawChart, iDRAWCHART);
 		add(jBDrawChart, getGBC(1, 7));
 
 		jBShowText.setIcon(GM.getImageIcon(GC.IMAGES_PATH + "b_showtext.gif"));
-		jBShowText.setToolTipText(JTableValue.LABEL_VIEW_TEXT); // 鿴ı
+		jBShowText.setToolTipText(JTableValue.LABEL_VIEW_TEXT); // 查看长文本
 		initButton(jBShowText, iSHOW_TEXT);
 		add(jBShowText, getGBC(1, 8));
 
@@ -160,7 +160,7 @@ public class PanelValueBar extends JPanel {
 	}
 
 	/**
-	 * Ƿ̶Ԫֵ
+	 * 设置是否固定单元格值
 	 * 
 	 * @param isLocked
 	 */
@@ -174,13 +174,13 @@ public class PanelValueBar extends JPanel {
 		}
 	}
 
-	/**  */
+	/** 复制数据 */
 	private final String TIP_COPY_CONTENT = splMM.getMessage("panelvaluebar.copy");
-	/**  */
+	/** 复制列名 */
 	private final String TIP_COPY_COLNAMES = splMM.getMessage("panelvaluebar.copycolnames");
 
 	/**
-	 * ȡGridBagConstraints
+	 * 取GridBagConstraints对象
 	 * 
 	 * @param r
 	 * @param c
@@ -191,7 +191,7 @@ public class PanelValueBar extends JPanel {
 	}
 
 	/**
-	 * ȡGridBagConstraints
+	 * 取GridBagConstraints对象
 	 * 
 	 * @param r
 	 * @param c
@@ -205,7 +205,7 @@ public class PanelValueBar extends JPanel {
 	}
 
 	/**
-	 * ˢ
+	 * 刷新
 	 */
 	public void refresh() {
 		JTableValue table = GVSpl.panelValue.tableValue;
@@ -234,7 +234,7 @@ public class PanelValueBar extends JPanel {
 	}
 
 	/**
-	 * Ƿ
+	 * 设置是否可用
 	 */
 	public void setEnabled(boolean enabled) {
 		super.setEnabled(enabled);
@@ -247,7 +247,7 @@ public class PanelValueBar extends JPanel {
 	}
 
 	/**
-	 * ʼť
+	 * 初始化按钮
 	 * 
 	 * @param button
 	 * @param cmd
@@ -263,7 +263,7 @@ public class PanelValueBar extends JPanel {
 	}
 
 	/**
-	 * Ҽ˵
+	 * 右键弹出菜单监听
 	 */
 	ActionListener popupAction = new ActionListener() {
 		public void actionPerformed(ActionEvent e) {
@@ -288,7 +288,7 @@ public class PanelValueBar extends JPanel {
 				break;
 			case iPIN:
 				table.setLocked(!table.isLocked());
-				if (!table.isLocked()) { // 
+				if (!table.isLocked()) { // 解锁
 					GVSpl.appSheet.refresh();
 				}
 				break;
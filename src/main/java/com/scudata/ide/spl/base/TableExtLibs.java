@@ -40,7 +40,7 @@ import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
  * 
- * ⲿؼ
+ * 外部库表滚动面板控件
  *
  */
 public class TableExtLibs extends JScrollPane {
@@ -48,60 +48,60 @@ public class TableExtLibs extends JScrollPane {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
-	/**  */
+	/** 名称列 */
 	public static final byte COL_NAME = 1;
-	/** ѡ */
+	/** 选择列 */
 	private final byte COL_SELECT = 2;
 
-	/**  */
+	/** 序号 */
 	private final String TITLE_INDEX = mm.getMessage("tableselectname.index");
-	/** Ŀ¼ */
+	/** 目录名 */
 	private final String TITLE_NAME = IdeSplMessage.get().getMessage(
 			"tableselectname.dirname");
-	/** ѡ */
+	/** 选出 */
 	private final String TITLE_SELECT = mm.getMessage("tableselectname.select");
 
 	/**
-	 * ؼ
+	 * 表控件
 	 */
 	private JTableEx tableNames;
 
 	/**
-	 * Ƿȫѡ
+	 * 是否全选
 	 */
 	private boolean selectAll = false;
 
 	/**
-	 * Ѵڵ
+	 * 已存在的名称
 	 */
 	private Vector<String> existNames;
 
 	/**
-	 * Ѵڵʾɫ
+	 * 已存在的名称显示的颜色
 	 */
 	private boolean existColor = true;
 
 	/**
-	 * Ƿֹ仯
+	 * 是否阻止变化
 	 */
 	private boolean preventChange = false;
 
 	/**
-	 * 
+	 * 过滤条件
 	 */
 	private String filter = null;
 
 	/**
-	 * ѡӳ
+	 * 选择的名称映射
 	 */
 	private Map<String, Boolean> nameSelected = new HashMap<String, Boolean>();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public TableExtLibs() {
 		tableNames = new JTableEx(TITLE_INDEX + "," + TITLE_NAME + ","
@@ -155,7 +155,7 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * Ѵڵʾɫ
+	 * 设置已存在的名称显示的颜色
 	 * 
 	 * @param existColor
 	 */
@@ -164,7 +164,7 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * ȡѡ
+	 * 取选择的行
 	 * 
 	 * @return
 	 */
@@ -173,49 +173,49 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * й仯
+	 * 行光标变化了
 	 * 
 	 * @param oldRow
-	 *            к
+	 *            旧行号
 	 * @param newRow
-	 *            к
+	 *            新行号
 	 */
 	public void rowChanged(int oldRow, int newRow) {
 	}
 
 	/**
-	 * ˫
+	 * 鼠标双击
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 */
 	public void doubleClick(int row, int col) {
 	}
 
 	/**
-	 * ѡ״̬仯
+	 * 行选择状态变化
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param selected
-	 *            Ƿѡ
+	 *            是否选择行
 	 */
 	public void rowSelectedChanged(int row, boolean selected) {
 	}
 
 	/**
-	 * ȫѡ/ȫѡ
+	 * 设置全选/全不选所有行
 	 * 
 	 * @param allSelected
-	 *            Ƿѡ
+	 *            是否选择
 	 */
 	public void allRowsSelected(boolean allSelected) {
 	}
 
 	/**
-	 * ȡ
+	 * 取行数
 	 * 
 	 * @return
 	 */
@@ -224,12 +224,12 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * ȡԪֵ
+	 * 取单元格值
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public Object getValueAt(int row, int col) {
@@ -237,7 +237,7 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * ù
+	 * 设置过滤条件
 	 * 
 	 * @param filter
 	 */
@@ -246,14 +246,14 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * б
+	 * 设置名称列表
 	 * 
 	 * @param names
-	 *            
+	 *            名称
 	 * @param reset
-	 *            Ƿ
+	 *            是否重置
 	 * @param selectExist
-	 *            ǷѡѾڵ
+	 *            是否选择已经在的名称
 	 */
 	public synchronized void setNames(Vector<String> names, boolean reset,
 			boolean selectExist) {
@@ -319,10 +319,10 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * ȡѡ
+	 * 取选择的名称
 	 * 
 	 * @param tableName
-	 *            бtableName.fieldNameޱʱֱӷfieldName
+	 *            表名。如果有表名返回tableName.fieldName，无表名时直接返回fieldName。
 	 * @return
 	 */
 	public String[] getSelectedNames(String tableName) {
@@ -330,12 +330,12 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * ȡѡ
+	 * 取选择的名称
 	 * 
 	 * @param tableName
-	 *            бtableName.fieldNameޱʱֱӷfieldName
+	 *            表名。如果有表名返回tableName.fieldName，无表名时直接返回fieldName。
 	 * @param opt
-	 *            ֶӷ
+	 *            表名和字段名的连接符号
 	 * @return
 	 */
 	public String[] getSelectedNames(String tableName, String opt) {
@@ -364,7 +364,7 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * ȡѡ
+	 * 取选择的序号
 	 * 
 	 * @return
 	 */
@@ -384,10 +384,10 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * ȡǷѡ
+	 * 取行是否选出
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @return
 	 */
 	public boolean isRowSelected(int row) {
@@ -396,12 +396,12 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * Ƿѡ
+	 * 设置行是否选出
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param selected
-	 *            Ƿѡ
+	 *            是否选出
 	 */
 	public void setRowSelected(int row, boolean selected) {
 		tableNames.data.setValueAt(new Boolean(selected), row, COL_SELECT);
@@ -409,17 +409,17 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * Ѿڵ
+	 * 设置已经存在的名称
 	 * 
 	 * @param existNames
-	 *            Ѿڵ
+	 *            已经存在的名称
 	 */
 	public void setExistNames(Vector<String> existNames) {
 		this.existNames = existNames;
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		this.getViewport().add(tableNames);
@@ -504,7 +504,7 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * ʼť
+	 * 初始化按钮
 	 * 
 	 * @param b
 	 */
@@ -516,10 +516,10 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * ȫѡ/ȫѡ
+	 * 全选/全不选
 	 * 
 	 * @param selected
-	 *            Ƿȫѡ
+	 *            是否全选
 	 */
 	public void selectAll(boolean selected) {
 		selectAll = selected;
@@ -534,7 +534,7 @@ public class TableExtLibs extends JScrollPane {
 	}
 
 	/**
-	 * ݱ仯
+	 * 数据变化了
 	 */
 	protected void setDataChanged() {
 	}
@@ -36,7 +36,7 @@ import com.scudata.ide.spl.resources.IdeSplMessage;
 import com.scudata.util.Variant;
 
 /**
- * ؼ
+ * 变量表控件
  *
  */
 public abstract class TableVar extends JPanel {
@@ -44,22 +44,22 @@ public abstract class TableVar extends JPanel {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	private MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * Ƿֹ仯
+	 * 是否阻止变化
 	 */
 	private boolean preventChange = false;
 
 	/**
-	 * б
+	 * 变量列表
 	 */
 	private ParamList vl;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public TableVar() {
 		super(new BorderLayout());
@@ -68,29 +68,29 @@ public abstract class TableVar extends JPanel {
 	}
 
 	/**
-	 * ѡ
+	 * 选择变量
 	 * 
 	 * @param val
-	 *            ֵ
+	 *            值
 	 * @param varName
-	 *            
+	 *            变量名
 	 */
 	public abstract void select(Object val, String varName);
 
 	/**
-	 * ñб
+	 * 设置变量列表
 	 * 
 	 * @param pl
-	 *            б
+	 *            变量列表
 	 */
 	public synchronized void setParamList(ParamList pl) {
 		setParamList(pl, false);
 	}
 
 	/**
-	 * ñб
-	 * @param pl б
-	 * @param isReset Ƿ޸ʾֵˢµ
+	 * 设置变量列表
+	 * @param pl 变量列表
+	 * @param isReset 是否修改显示值后刷新的
 	 */
 	public synchronized void setParamList(ParamList pl, boolean isRefresh) {
 		if (setParamThread != null) {
@@ -133,7 +133,7 @@ public abstract class TableVar extends JPanel {
 	}
 
 	/**
-	 * ò߳
+	 * 设置参数的线程
 	 */
 	private SetParamThread setParamThread = null;
 
@@ -142,12 +142,12 @@ public abstract class TableVar extends JPanel {
 
 		private int dispRows;
 		/**
-		 * Ƿֹͣ
+		 * 是否停止了
 		 */
 		boolean isStoped = false;
 
 		/**
-		 * 캯
+		 * 构造函数
 		 * @param pl
 		 */
 		public SetParamThread(ParamList pl, int dispRows) {
@@ -156,7 +156,7 @@ public abstract class TableVar extends JPanel {
 		}
 
 		/**
-		 * ִ
+		 * 执行
 		 */
 		public void run() {
 			try {
@@ -179,7 +179,7 @@ public abstract class TableVar extends JPanel {
 		}
 
 		/**
-		 * ֹͣ߳
+		 * 停止线程
 		 */
 		void stopThread() {
 			isStoped = true;
@@ -187,7 +187,7 @@ public abstract class TableVar extends JPanel {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		JScrollPane jSPTable = new JScrollPane(tableVar);
@@ -246,7 +246,7 @@ public abstract class TableVar extends JPanel {
 	}
 
 	/**
-	 * ȡʾ
+	 * 取显示行
 	 * @return
 	 */
 	private int getDispRows() {
@@ -256,15 +256,15 @@ public abstract class TableVar extends JPanel {
 		return dispRows;
 	}
 
-	/**  */
+	/** 序号列 */
 	private final byte COL_INDEX = 0;
-	/**  */
+	/** 名称列 */
 	private final byte COL_NAME = 1;
-	/** ֵ */
+	/** 值列 */
 	private final byte COL_VALUE = 2;
 
 	/**
-	 * ؼ,,ֵ
+	 * 变量表控件。序号,名称,值。
 	 */
 	private JTableEx tableVar = new JTableEx(
 			mm.getMessage("jtabbedparam.tableconst")) {
@@ -346,7 +346,7 @@ public abstract class TableVar extends JPanel {
 	private static final int DEFAULT_ROW_COUNT = 100;
 
 	/**
-	 * ʾ
+	 * 显示的最大行数面板
 	 */
 	private JSpinner jSDispRows = new JSpinner(new SpinnerNumberModel(
 			DEFAULT_ROW_COUNT, 1, Integer.MAX_VALUE, 1));
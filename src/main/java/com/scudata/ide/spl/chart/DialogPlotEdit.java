@@ -15,7 +15,7 @@ import com.scudata.ide.spl.resources.*;
 import java.util.*;
 
 /**
- * ͼβ༭Ի
+ * 图形参数编辑对话框
  * 
  * @author Joancy
  *
@@ -37,10 +37,10 @@ public class DialogPlotEdit extends JDialog implements ActionListener {
 	MessageManager mm = ChartMessage.get();
 	
 	/**
-	 * һͼ༭Ի
-	 * @param owner 
-	 * @param plotFunc plot
-	 * @param graphics splļжõл
+	 * 创建一个绘图编辑对话框
+	 * @param owner 父窗口
+	 * @param plotFunc plot函数体
+	 * @param graphics spl文件中定义好的所有画布名称
 	 */
 	public DialogPlotEdit(Frame owner, String plotFunc, java.util.List<String> graphics) {
 		super(owner);
@@ -107,7 +107,7 @@ public class DialogPlotEdit extends JDialog implements ActionListener {
 		glist.setEditable(true);
 		cmdPanel.add(glist, GM.getGBC(1, 2, true));
 		cmdPanel.add(new JLabel(mm.getMessage("label.selTy")),
-				GM.getGBC(1, 3)); // "ѡͼԪ"
+				GM.getGBC(1, 3)); // "请选择图元"
 		elmList = new JComboBoxEx();
 		Vector<String> names = new Vector<String>();
 		Vector<String> titles = new Vector<String>();
@@ -119,7 +119,7 @@ public class DialogPlotEdit extends JDialog implements ActionListener {
 			ArrayList<ElementInfo> list1 = (ArrayList<ElementInfo>) list.get(k);
 			for (int i = 0; i < list1.size(); i++) {
 				ElementInfo ei = (ElementInfo) list1.get(i);
-				//				ӳᣬֱ֧༭
+				//				兼容映射轴，但不再支持编辑
 				if(ei.getName().equals("MapAxis")) continue;
 				
 				names.add(ei.getName());
@@ -166,15 +166,15 @@ public class DialogPlotEdit extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ȡڷصѡ
-	 * @return ѡ
+	 * 获取窗口返回的选项
+	 * @return 选项
 	 */
 	public int getOption() {
 		return m_option;
 	}
 
 	/**
-	 * ʾϸϢ
+	 * 显示参数详细信息
 	 */
 	public void dispDetail() {
 		propPanel.setElementInfo(elmInfo);
@@ -207,9 +207,9 @@ public class DialogPlotEdit extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ڼ¼
+	 * 窗口监听事件
 	 * 
-	 * @param e ¼
+	 * @param e 事件
 	 */
 	public void actionPerformed(ActionEvent e) {
 		Object o = e.getSource();
@@ -11,7 +11,7 @@ import javax.swing.border.*;
 import java.awt.event.*;
 
 /**
- * ֵб༭ͷȾ
+ * 参数值的序列表编辑表头渲染类
  * 
  * @author Joancy
  *
@@ -29,7 +29,7 @@ public class HeaderRenderer extends JPanel implements TableCellRenderer, ActionL
 	private JButton extButton;
 
 	/**
-	 * һȱʡıͷȾʵ
+	 * 创建一个缺省参数的表头渲染实例
 	 */
 	public HeaderRenderer() {
 		super( new FlowLayout( FlowLayout.CENTER, 0, 0 ) );
@@ -53,7 +53,7 @@ public class HeaderRenderer extends JPanel implements TableCellRenderer, ActionL
 	}
 
 	/**
-	 * ʵȾӿ
+	 * 实现渲染接口
 	 */
 	public Component getTableCellRendererComponent( JTable table, Object value,
 													boolean isSelected, boolean hasFocus, int row, int column ) {
@@ -90,9 +90,9 @@ public class HeaderRenderer extends JPanel implements TableCellRenderer, ActionL
 	}
 
 	/**
-	 * ͷ¼
+	 * 表头点击事件触发
 	 *
-	 * @param e ActionEvent ¼
+	 * @param e ActionEvent 事件对象
 	 */
 	public void actionPerformed( ActionEvent e ) {
 		Object o = e.getSource();
@@ -117,9 +117,9 @@ public class HeaderRenderer extends JPanel implements TableCellRenderer, ActionL
 	}
 
 	/**
-	 * ¼
+	 * 鼠标点击事件触发
 	 * 
-	 * @param e ¼ʵ
+	 * @param e 鼠标事件实例
 	 */
 	public void mouseClicked( MouseEvent e ) {
 		JTableHeader header = (JTableHeader) (e.getSource());
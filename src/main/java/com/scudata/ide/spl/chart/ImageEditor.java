@@ -10,20 +10,20 @@ import javax.swing.*;
 import java.awt.*;
 
 /**
- * ༭ʱʹøͼ༭ʾշ״̬
+ * 参数面板编辑时，使用该图像编辑器表示参数的收放状态
  * 
  * @author Joancy
  *
  */
 public class ImageEditor implements TableCellEditor {
 	/**
-	 * һͼ༭
+	 * 构建一个图像编辑器
 	 */
 	public ImageEditor() {
 	}
 
 	/**
-	 * ʵֱ༭ĳ󷽷
+	 * 实现表格编辑的抽象方法
 	 */
 	public Component getTableCellEditorComponent( JTable table, Object value,
 												  boolean isSelected, int row,
@@ -69,13 +69,13 @@ public class ImageEditor implements TableCellEditor {
 	}
 
 	/**
-	 * ȡ༭
+	 * 取消编辑，无意义
 	 */
 	public void cancelCellEditing() {
 	}
 
 	/**
-	 * ֹͣ༭
+	 * 停止编辑
 	 * @return false
 	 */
 	public boolean stopCellEditing() {
@@ -83,14 +83,14 @@ public class ImageEditor implements TableCellEditor {
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 获取编辑值，无意义
 	 */
 	public Object getCellEditorValue() {
 		return "";
 	}
 
 	/**
-	 * Ƿɱ༭
+	 * 格子是否可编辑
 	 * @return false
 	 */
 	public boolean isCellEditable( EventObject anEvent ) {
@@ -98,7 +98,7 @@ public class ImageEditor implements TableCellEditor {
 	}
 
 	/**
-	 * ѡи
+	 * 选中格子
 	 * @return false
 	 */
 	public boolean shouldSelectCell( EventObject anEvent ) {
@@ -106,13 +106,13 @@ public class ImageEditor implements TableCellEditor {
 	}
 
 	/**
-	 * ӱ༭
+	 * 增加编辑监听器
 	 */
 	public void addCellEditorListener( CellEditorListener l ) {
 	}
 
 	/**
-	 * ɾ༭
+	 * 删除编辑监听器
 	 */
 	public void removeCellEditorListener( CellEditorListener l ) {
 	}
@@ -8,7 +8,7 @@ import com.scudata.ide.common.*;
 import java.awt.*;
 
 /**
- * ӦImageEditorȾ
+ * 对应ImageEditor的渲染类
  * 
  * @author Joancy
  *
@@ -21,14 +21,14 @@ public class ImageRenderer extends JLabel implements TableCellRenderer {
 	private static final long serialVersionUID = 7297185433633526409L;
 
 	/**
-	 * ȱʡ캯
+	 * 缺省构造函数
 	 */
 	public ImageRenderer() {
 		setHorizontalAlignment( JLabel.CENTER );
 	}
 
 	/**
-	 * ʵָ󷽷״̬ѡòͬͼƬʾ
+	 * 实现父类抽象方法，根据状态和类型选用不同图片表示
 	 */
 	public Component getTableCellRendererComponent( JTable table, Object value,
 		boolean isSelected,
@@ -10,7 +10,7 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.spl.resources.*;
 
 /**
- * 
+ * 参数输入面板
  * 
  * @author Joancy
  *
@@ -24,11 +24,11 @@ public class ParamInputPanel extends JSplitPane implements ActionListener {
 	private Dialog owner;
 
 	/**
-	 * ͼԪϢ
-	 * @param info ͼԪϢ
+	 * 设置图元信息
+	 * @param info 图元信息对象
 	 */
 	public void setElementInfo( ElementInfo info ) {
-		String label = ChartMessage.get().getMessage( "label.propedit", info.getTitle() );  //"Ա༭";
+		String label = ChartMessage.get().getMessage( "label.propedit", info.getTitle() );  //"属性编辑";
 		init( owner, label, info.getParamInfoList() );
 		boolean hasLegendCol = info.getName().equals("Dot") ||
 				info.getName().equals("Line") ||
@@ -38,31 +38,31 @@ public class ParamInputPanel extends JSplitPane implements ActionListener {
 	}
 
 	/**
-	 * òϢб
-	 * @param owner 
-	 * @param list Ϣб
+	 * 设置参数信息列表
+	 * @param owner 父窗口
+	 * @param list 参数信息列表
 	 */
 	public void setParamInfoList( Dialog owner, ParamInfoList list ) {
-		String label = ChartMessage.get().getMessage( "label.paramedit" );  //"ͼ༭";
+		String label = ChartMessage.get().getMessage( "label.paramedit" );  //"绘图参数编辑";
 		init( owner, label, list );
 	}
 
 	/**
-	 * ʹøڶĹ캯
-	 * @param owner 
+	 * 使用父窗口对象的构造函数
+	 * @param owner 父窗口
 	 */
 	public ParamInputPanel( Dialog owner ) {
 		this.owner = owner;
 	}
 	/**
-	 * չȫ
+	 * 展开全部参数
 	 */
 	public void expandAll(){
 		table.expandAll();
 	}
 	
 	/**
-	 * ȫ
+	 * 收起全部参数
 	 */
 	public void collapseAll(){
 		table.collapseAll();
@@ -80,17 +80,17 @@ public class ParamInputPanel extends JSplitPane implements ActionListener {
 		JPanel top = new JPanel(new GridBagLayout());
 		GridBagConstraints gbc = GM.getGBC(1, 1,true);
 		gbc.gridwidth = 4;
-		top.add( new JLabel( ChartMessage.get().getMessage( "label.seriesinput" ) ), gbc );  //"ֵ¼"
+		top.add( new JLabel( ChartMessage.get().getMessage( "label.seriesinput" ) ), gbc );  //"参数序列值录入"
 		
 		seriesTable = new TableInputSeries( table );
 		seriesTable.setAutoResizeMode( JTable.AUTO_RESIZE_OFF );
-		insertBtn = new JButton( ChartMessage.get().getMessage( "button.insertrow" ) );  //"(I)" );
+		insertBtn = new JButton( ChartMessage.get().getMessage( "button.insertrow" ) );  //"插入行(I)" );
 		insertBtn.addActionListener( this );
 		insertBtn.setMnemonic( 'I' );
-		addRowBtn = new JButton( ChartMessage.get().getMessage( "button.addrow" ) );  //"(A)" );
+		addRowBtn = new JButton( ChartMessage.get().getMessage( "button.addrow" ) );  //"添加行(A)" );
 		addRowBtn.addActionListener( this );
 		addRowBtn.setMnemonic( 'A' );
-		delRowBtn = new JButton( ChartMessage.get().getMessage( "button.delrow" ) );  //"ɾ(D)" );
+		delRowBtn = new JButton( ChartMessage.get().getMessage( "button.delrow" ) );  //"删除行(D)" );
 		delRowBtn.addActionListener( this );
 		delRowBtn.setMnemonic( 'D' );
 		
@@ -110,7 +110,7 @@ public class ParamInputPanel extends JSplitPane implements ActionListener {
 	}
 
 	/**
-	 * ȡ༭
+	 * 获取参数表编辑器
 	 * @return
 	 */
 	public TableParamEdit getParamTable() {
@@ -118,7 +118,7 @@ public class ParamInputPanel extends JSplitPane implements ActionListener {
 	}
 
 	/**
-	 * ȡб༭
+	 * 获取序列编辑表
 	 * @return
 	 */
 	public TableInputSeries getSeriesTable() {
@@ -126,9 +126,9 @@ public class ParamInputPanel extends JSplitPane implements ActionListener {
 	}
 
 	/**
-	 * ¼
+	 * 事件监听器
 	 * 
-	 * @param e ActionEvent ¼
+	 * @param e ActionEvent 事件对象
 	 */
 	public void actionPerformed( ActionEvent e ) {
 		Object o = e.getSource();
@@ -144,8 +144,8 @@ public class ParamInputPanel extends JSplitPane implements ActionListener {
 	}
 
 	/**
-	 * ȡϢб
-	 * @return Ϣб
+	 * 获取参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		table.acceptText();
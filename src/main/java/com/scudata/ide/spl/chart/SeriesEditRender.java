@@ -10,7 +10,7 @@ import com.scudata.ide.common.swing.*;
 import com.scudata.ide.spl.resources.*;
 
 /**
- * ֵıȾ
+ * 参数序列值的表格渲染器
  * 
  * @author Joancy
  *
@@ -23,15 +23,15 @@ public class SeriesEditRender extends JLabel implements TableCellRenderer {
 	private static final long serialVersionUID = -4706869567924036200L;
 
 	/**
-	 * ȱʡֵĹ캯
+	 * 缺省值的构造函数
 	 */
 	public SeriesEditRender() {
 		setHorizontalAlignment(JLabel.CENTER);
-		this.setToolTipText( ChartMessage.get().getMessage( "tips.toseriesedit" ) );  //"뵽¼༭" );
+		this.setToolTipText( ChartMessage.get().getMessage( "tips.toseriesedit" ) );  //"加入到序列录入表编辑" );
 	}
 
 	/**
-	 * ʵָ󷽷
+	 * 实现父类抽象方法
 	 */
 	public Component getTableCellRendererComponent( JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column ) {
 		setBorder( BorderFactory.createEmptyBorder() );
@@ -9,7 +9,7 @@ import com.scudata.chart.edit.ParamInfo;
 import com.scudata.ide.common.*;
 
 /**
- * ֵı༭
+ * 参数序列值的表格编辑器
  * 
  * @author Joancy
  *
@@ -27,8 +27,8 @@ public class SeriesEditor extends DefaultCellEditor {
 	public static ImageIcon enabledIcon = GM.getImageIcon( GC.IMAGES_PATH + "m_pmtredo.gif" );
 
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public SeriesEditor( Dialog owner ) {
 		super( new JCheckBox() );
@@ -50,7 +50,7 @@ public class SeriesEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ʵֱ༭ĳ󷽷
+	 * 实现编辑器的抽象方法
 	 */
 	public Component getTableCellEditorComponent( JTable table, Object value,
 												  boolean isSelected, int row, int column ) {
@@ -74,7 +74,7 @@ public class SeriesEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 获取编辑值
 	 * @return null
 	 */
 	public Object getCellEditorValue() {
@@ -82,7 +82,7 @@ public class SeriesEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ֹͣ༭
+	 * 停止编辑
 	 */
 	public boolean stopCellEditing() {
 		return super.stopCellEditing();
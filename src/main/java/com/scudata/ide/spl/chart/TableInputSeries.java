@@ -17,21 +17,21 @@ import com.scudata.ide.spl.resources.*;
 import com.scudata.util.*;
 
 /**
- * ֵ༭
+ * 序列值编辑表
  * 
  * @author Joancy
  *
  */
 public class TableInputSeries extends JTableEx {
 	private static final long serialVersionUID = 1L;
-	private int currCols;  //ǰڱ༭
+	private int currCols;  //当前正在编辑的属性数
 	private TableParamEdit paramTable;
-	private String expColName = ChartMessage.get().getMessage( "label.exp" );  //"ʽ";
-	private String nameColName = ChartMessage.get().getMessage( "label.paramname" ); //"";
+	private String expColName = ChartMessage.get().getMessage( "label.exp" );  //"表达式";
+	private String nameColName = ChartMessage.get().getMessage( "label.paramname" ); //"参数名";
 
 	/**
-	 * 캯
-	 * @param table Ӧ༭
+	 * 构造函数
+	 * @param table 对应参数编辑表
 	 */
 	public TableInputSeries( TableParamEdit table ) {
 		this.paramTable = table;
@@ -43,7 +43,7 @@ public class TableInputSeries extends JTableEx {
 		this.setRowHeight( 25 );
 		for( int i = 0; i < 10; i++ ) {
 			TableColumn tc = getColumn( i );
-			//ÿnewһµrendererҲǷ˱ͷİť
+			//必须每列new一个新的renderer，否则查找不到是否点击了本列头的按钮
 			tc.setHeaderRenderer( new HeaderRenderer() );
 			if( i % 2 == 0 ) tc.setPreferredWidth( 120 );
 			else {
@@ -57,12 +57,12 @@ public class TableInputSeries extends JTableEx {
 	}
 
 	/**
-	 * Ӳһ༭
-	 * @param row ڲек
+	 * 从参数表添加一个参数来编辑
+	 * @param row 参数在参数表中的行号
 	 */
 	public void addParam2Edit( int row, Dialog owner ) {
 		if( currCols == 5 ) {
-			JOptionPane.showMessageDialog( this, ChartMessage.get().getMessage( "info.maxparams" ) );  //"ͬʱ༭5" );
+			JOptionPane.showMessageDialog( this, ChartMessage.get().getMessage( "info.maxparams" ) );  //"允许最多同时编辑5个参数！" );
 			return;
 		}
 		for( int i = 1; i <= currCols; i++ ) {
@@ -94,7 +94,7 @@ public class TableInputSeries extends JTableEx {
 		nameTc.setPreferredWidth( w );
 		currCols++;
 
-		//¼ÿеֵ
+		//设置新加列每行的值
 		EachRowEditor ere = (EachRowEditor)paramTable.getCellEditor( row, TableParamEdit.iVALUECOL );
 		TableCellEditor tce = ere.selectEditor( paramTable, row, TableParamEdit.iEDITSTYLECOL );
 		nameTc.setCellEditor( tce );
@@ -109,7 +109,7 @@ public class TableInputSeries extends JTableEx {
 		}
 		boolean isCC = isChartColor( o );
 		ParamInfo info = (ParamInfo) paramTable.getModel().getValueAt( row,  TableParamEdit.iOBJCOL );
-		if( o == null || o.toString().trim().length() == 0 || isCC ) {  //ûбʽ
+		if( o == null || o.toString().trim().length() == 0 || isCC ) {  //没有表达式
 			o = paramTable.getModel().getValueAt( row, 2 );
 			for( int i = 0; i < this.getRowCount(); i++ ) {
 				if( i == 0 ) data.setValueAt( o, i, nameIndex );
@@ -117,11 +117,11 @@ public class TableInputSeries extends JTableEx {
 				data.setValueAt( "", i, expIndex );
 			}
 		}
-		else {   //Ǳʽ
+		else {   //是表达式
 			String exp = ((String)paramTable.getModel().getValueAt( row, 3 )).trim();
 			if( exp.startsWith( "[" ) && !isCC ) {
 				if( !exp.endsWith( "]" ) ) {
-					JOptionPane.showMessageDialog( this, exp + ChartMessage.get().getMessage( "info.nozkh" ) );  //"ȱ]" );
+					JOptionPane.showMessageDialog( this, exp + ChartMessage.get().getMessage( "info.nozkh" ) );  //"缺少]" );
 					return;
 				}
 				exp = exp.substring( 1, exp.length() - 1 ).trim();
@@ -134,7 +134,7 @@ public class TableInputSeries extends JTableEx {
 					if( at.hasMoreTokens() ) {
 						String tmp = at.nextToken().trim();
 						Object val = PgmNormalCell.parseConstValue( tmp );
-						if ( Variant.isEquals( tmp, val ) || isChartColor( val ) ) { //˵Ǳʽ
+						if ( Variant.isEquals( tmp, val ) || isChartColor( val ) ) { //说明是表达式
 							data.setValueAt( tmp, r, expIndex );
 							data.setValueAt( TableParamEdit.toValueObject( info, tmp ), r, nameIndex );
 						}
@@ -148,7 +148,7 @@ public class TableInputSeries extends JTableEx {
 					}
 				}
 			}
-			else {   //ͨʽChartColor
+			else {   //普通表达式或ChartColor
 				for( int i = 0; i < this.getRowCount(); i++ ) {
 					if( i == 0 ) {
 						if( isCC ) {
@@ -172,9 +172,9 @@ public class TableInputSeries extends JTableEx {
 	}
 
 	/**
-	 * ǷChartColor
-	 * @param o ֵ
-	 * @return ChartColorĲֵtrue򷵻false
+	 * 是否是ChartColor
+	 * @param o 参数值
+	 * @return 如果是ChartColor类的参数值返回true，否则返回false
 	 */
 	public static boolean isChartColor( Object o ) {
 		if( !( o instanceof Sequence ) ) return false;
@@ -195,8 +195,8 @@ public class TableInputSeries extends JTableEx {
 	}
 
 	/**
-	 * ɾָλõĲֵ
-	 * @param colIndex 
+	 * 删除指定位置的参数值
+	 * @param colIndex 序号
 	 */
 	public void deleteParam( int colIndex ) {
 		if( currCols == 0 ) return;
@@ -229,7 +229,7 @@ public class TableInputSeries extends JTableEx {
 	}
 
 	/**
-	 * ׷һ
+	 * 追加一行
 	 */
 	public void myAddRow() {
 		int row = this.addRow();
@@ -242,7 +242,7 @@ public class TableInputSeries extends JTableEx {
 	}
 
 	/**
-	 * ڵǰǰһ
+	 * 在当前行前插入一行
 	 */
 	public void myInsertRow() {
 		int row = this.insertRow( this.getSelectedRow(), null );
@@ -255,7 +255,7 @@ public class TableInputSeries extends JTableEx {
 	}
 
 	/**
-	 * ɾǰ
+	 * 删除当前行
 	 */
 	public void myDelRow() {
 		if( this.deleteSelectedRows() ) updateParams();
@@ -280,12 +280,12 @@ public class TableInputSeries extends JTableEx {
 	}
 
 	/**
-	 * ĳԪ޸ĺ󴥷
+	 * 某个单元格被修改后触发
 	 */
 	public void setValueAt( Object aValue, int row, int column ) {
 		Object oldValue = getValueAt( row, column );
 		int nameIndex, expIndex;
-		if( column % 2 == 1 ) {  //ʽ
+		if( column % 2 == 1 ) {  //表达式列
 			aValue = aValue.toString().trim();
 			if( oldValue == null ) oldValue = "";
 			expIndex = column;
@@ -303,10 +303,10 @@ public class TableInputSeries extends JTableEx {
 
 		ParamInfo info = getParamInfo( column );
 		if( info == null ) return;
-		if ( column % 2 == 0 ) { //ֵҪڱʽʾ뷽ʽѡֵ
+		if ( column % 2 == 0 ) { //输入值，要在表达式列显示下拉等输入方式选择的值
 			super.setValueAt( TableParamEdit.toExpString( info, aValue ), row, expIndex );
 		}
-		else { //ʽҪֵܽʾֵжӦʾֵ
+		else { //输入表达式，要将能解析的值显示成值列对应的显示值
 			super.setValueAt( TableParamEdit.toValueObject( info, aValue.toString() ), row, nameIndex );
 		}
 		updateParams();
@@ -326,7 +326,7 @@ public class TableInputSeries extends JTableEx {
 			}
 			String exps = "";
 			if( expo != null ) exps = expo.toString().trim();
-			if( exps.length() == 0 ) {   //ûбʽ
+			if( exps.length() == 0 ) {   //没有表达式
 				if( o == null ) o = "";
 				
 				Object obj = Variant.parse(o.toString(), false);
@@ -367,7 +367,7 @@ public class TableInputSeries extends JTableEx {
 	}
 
 	/**
-	 * ǰ༭ֵµ༭
+	 * 将当前编辑表的序列值更新到参数编辑表
 	 */
 	public void updateParams() {
 		acceptText();
@@ -377,7 +377,7 @@ public class TableInputSeries extends JTableEx {
 	}
 
 	/**
-	 * ܵǰı༭ֵ
+	 * 接受当前的编辑值
 	 */
 	public void acceptText() {
 		if ( this.isEditing() ) {
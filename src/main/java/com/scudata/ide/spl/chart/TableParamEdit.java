@@ -22,18 +22,18 @@ import com.scudata.ide.spl.resources.*;
 import com.scudata.util.*;
 
 /**
- * ༭
+ * 参数编辑窗口
  */
 public class TableParamEdit extends JTableEx {
 	private static final long serialVersionUID = 1L;
 	
-	private String FOLDERCOL = " ";  //"ͼ";
-	public String NAMECOL = ChartMessage.get().getMessage( "label.propname" );  //"";
-	public String VALUECOL = ChartMessage.get().getMessage( "label.propvalue" );  //"ֵ";
-	public String EXPCOL = ChartMessage.get().getMessage( "label.propexp" );  //"ֵʽ";
-	public String AXISCOL = ChartMessage.get().getMessage( "label.axis" );  //"";
+	private String FOLDERCOL = " ";  //"图标列";
+	public String NAMECOL = ChartMessage.get().getMessage( "label.propname" );  //"属性名称";
+	public String VALUECOL = ChartMessage.get().getMessage( "label.propvalue" );  //"属性值";
+	public String EXPCOL = ChartMessage.get().getMessage( "label.propexp" );  //"属性值表达式";
+	public String AXISCOL = ChartMessage.get().getMessage( "label.axis" );  //"轴名称";
 	private String EDITSTYLECOL = "editstyle";
-	private String OBJCOL = "objcol"; //ParamInfonull
+	private String OBJCOL = "objcol"; //ParamInfo对象，如果是null则代表分组行
 	private String ARROWCOL = new String(new char[]{0});
 	
 	public static int iFOLDERCOL = 0;
@@ -48,21 +48,21 @@ public class TableParamEdit extends JTableEx {
 	private int COLCOUNT = 8;
 	
 
-	private HashMap<String,ArrayList<Object[]>> hiddenMap = new HashMap<String,ArrayList<Object[]>>(); //е ArrayList ÿObject[]
+	private HashMap<String,ArrayList<Object[]>> hiddenMap = new HashMap<String,ArrayList<Object[]>>(); //隐藏行的数据 类型ArrayList 每个对象Object[]
 	public TableInputSeries seriesTable;
 	
 	boolean isAutoHide = false;
 	
 	/**
-	 * һ༭
-	 * @param owner 
-	 * @param list Ϣб
+	 * 构造一个参数编辑表
+	 * @param owner 父窗口
+	 * @param list 参数信息列表
 	 */
 	public TableParamEdit( Dialog owner, ParamInfoList list ) {
 		String[] colNames = new String[] { FOLDERCOL, NAMECOL, VALUECOL, EXPCOL, AXISCOL, EDITSTYLECOL, OBJCOL, ARROWCOL };
 		data.setColumnIdentifiers( colNames );
 
-		//
+		//生成数据
 		ArrayList<ParamInfo> root = list.getRootParams();
 		for( int i = 0; i < root.size(); i++ ) {
 			ParamInfo pi = ( ParamInfo ) root.get( i );
@@ -168,8 +168,8 @@ public class TableParamEdit extends JTableEx {
 		setColumnVisible( OBJCOL, false );
 
 		setSelectionMode( ListSelectionModel.SINGLE_SELECTION );
-		setColumnSelectionAllowed( true ); //пѡ
-		setRowSelectionAllowed( true ); //пѡ
+		setColumnSelectionAllowed( true ); //列可选
+		setRowSelectionAllowed( true ); //行可选
 		this.addFocusListener( new FocusListener() {
 			public void focusGained(FocusEvent e) {
 				if(seriesTable!=null){
@@ -182,7 +182,7 @@ public class TableParamEdit extends JTableEx {
 	}
 	
 	/**
-	 * Զͼʱض
+	 * 自动生成图形时，隐藏多余列
 	 */
 	public void autoHide(){
 		isAutoHide = true;
@@ -192,15 +192,15 @@ public class TableParamEdit extends JTableEx {
 	}
 	
 	/**
-	 * ʵ¼
-	 * @param e ¼
+	 * 实现鼠标点击事件
+	 * @param e 鼠标事件
 	 */
 	public void mouseClicked( MouseEvent e ) {
 		super.mouseClicked( e );
 		if ( e.getButton() == MouseEvent.BUTTON1 ) {
 			int row = getSelectedRow();
 			int col = getSelectedColumn();
-			if ( col != iFOLDERCOL ) {  //ʱչ
+			if ( col != iFOLDERCOL ) {  //鼠标点击行首列时，收缩与展开属性组
 				return;
 			}
 			if ( data.getValueAt( row, col ) == null || ! ( data.getValueAt( row, col ) instanceof Byte ) ) {
@@ -217,7 +217,7 @@ public class TableParamEdit extends JTableEx {
 					newType = GC.TYPE_PLUS;
 				case GC.TYPE_LASTMINUS:
 					newType = GC.TYPE_LASTPLUS;
-					while ( row + 1 < data.getRowCount() && data.getValueAt( row + 1, iOBJCOL ) != null ) { //ҵβһΪֹ
+					while ( row + 1 < data.getRowCount() && data.getValueAt( row + 1, iOBJCOL ) != null ) { //找到表尾或下一个分组行为止
 						rowData = new Object[data.getColumnCount()];
 						for ( int c = 0; c < data.getColumnCount(); c++ ) {
 							rowData[c] = data.getValueAt( row + 1, c );
@@ -240,7 +240,7 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * չв
+	 * 展开所有参数
 	 */
 	public void expandAll(){
 		int rowCount = data.getRowCount();
@@ -259,14 +259,14 @@ public class TableParamEdit extends JTableEx {
 	}
 	
 	/**
-	 * 
-	 * @param key ķֵ 
-	 * @param row к
+	 * 收起参数
+	 * @param key 参数的分组键值 
+	 * @param row 行号
 	 */
 	private void collapse(String key, int row){
 		ArrayList<Object[]> list = new ArrayList<Object[]>();
 		Object rowData[];
-		while ( row + 1 < data.getRowCount() && data.getValueAt( row + 1, iOBJCOL ) != null ) { //ҵβһΪֹ
+		while ( row + 1 < data.getRowCount() && data.getValueAt( row + 1, iOBJCOL ) != null ) { //找到表尾或下一个分组行为止
 			rowData = new Object[data.getColumnCount()];
 			for ( int c = 0; c < data.getColumnCount(); c++ ) {
 				rowData[c] = data.getValueAt( row + 1, c );
@@ -278,7 +278,7 @@ public class TableParamEdit extends JTableEx {
 	}
 	
 	/**
-	 * в
+	 * 收起所有参数
 	 */
 	public void collapseAll(){
 		int rowCount = data.getRowCount();
@@ -297,13 +297,13 @@ public class TableParamEdit extends JTableEx {
 	}
 	
 	/**
-	 * ظǷ༭
-	 * @param row 
-	 * @param column 
+	 * 返回格子是否允许编辑
+	 * @param row 行
+	 * @param column 列
 	 */
 	public boolean isCellEditable( int row, int column ) {
 		ParamInfo info = ( ParamInfo ) data.getValueAt( row, iOBJCOL );
-		if( info == null ) {   //вܱ༭
+		if( info == null ) {   //分组行不能编辑
 			return false;
 		}
 		
@@ -315,10 +315,10 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * ĳֵ޸ĺ󴥷
-	 * @param aValue ֵ
-	 * @param row 
-	 * @param column 
+	 * 某个属性值被修改后触发
+	 * @param aValue 属性值
+	 * @param row 行
+	 * @param column 列
 	 * 
 	 */
 	public void setValueAt( Object aValue, int row, int column ) {
@@ -337,7 +337,7 @@ public class TableParamEdit extends JTableEx {
 		super.setValueAt( aValue, row, column );
 		ParamInfo info = ( ParamInfo ) data.getValueAt( row, iOBJCOL );
 		if( info != null ) {
-			if(isAutoHide){//ԶкֵֻпԱ༭
+			if(isAutoHide){//自动隐藏相关列后，只有值列可以编辑
 				info.setValue( aValue );	
 				return;
 			}
@@ -345,15 +345,15 @@ public class TableParamEdit extends JTableEx {
 				info.setAxis( ( String ) aValue );
 				return;
 			}
-			if( column == iVALUECOL ) {   //ֵҪڱʽʾ뷽ʽѡֵ
+			if( column == iVALUECOL ) {   //输入值，要在表达式列显示下拉等输入方式选择的值
 				super.setValueAt( toExpString( info, aValue ), row, iEXPCOL );
-				super.setValueAt( "", row, iAXISCOL );   //
+				super.setValueAt( "", row, iAXISCOL );   //将轴清空
 			}
-			else if( column == iEXPCOL ) {  //ʽҪֵܽʾֵжӦʾֵ
+			else if( column == iEXPCOL ) {  //输入表达式，要将能解析的值显示成值列对应的显示值
 				super.setValueAt( toValueObject( info, aValue.toString() ), row, iVALUECOL );
 				if( aValue.toString().trim().length() == iFOLDERCOL ) {
 					aValue = info.getDefValue();
-					super.setValueAt( "", row, iAXISCOL );   //
+					super.setValueAt( "", row, iAXISCOL );   //将轴清空
 				}
 				else aValue = "=" + aValue.toString();
 			}
@@ -370,7 +370,7 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * ܵǰı༭ֵ
+	 * 接受当前的编辑值
 	 */
 	public void acceptText() {
 		if ( this.isEditing() ) {
@@ -379,10 +379,10 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * valueݲϢתΪʽ
-	 * @param info Ϣ
-	 * @param value ֵ
-	 * @return ʽ
+	 * 将参数value根据参数信息的类型转为表达式串
+	 * @param info 参数信息
+	 * @param value 参数值
+	 * @return 表达式串
 	 */
 	public static String toExpString( ParamInfo info, Object value ) {
 		int inputType = info.getInputType();
@@ -413,10 +413,10 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * ʽexpղϢinfoתΪӦĲֵ
-	 * @param info Ϣ
-	 * @param exp ʽ
-	 * @return ֵ
+	 * 将表达式exp按照参数信息info的类型转换为对应的参数值
+	 * @param info 参数信息
+	 * @param exp 表达式
+	 * @return 参数值
 	 */
 	public static Object toValueObject( ParamInfo info, String exp ) {
 		int inputType = info.getInputType();
@@ -439,10 +439,10 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * زֵvalueǷtypeһ
-	 * @param type Ͷ
-	 * @param value ֵ
-	 * @return һµĻtrue򷵻false
+	 * 返回参数值value是否跟描述的类型type一致
+	 * @param type 类型定义
+	 * @param value 参数值
+	 * @return 一致的话返回true，否则返回false
 	 */
 	public static boolean isRightType( int type, Object value ) {
 		switch( type ) {
@@ -479,8 +479,8 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * б༭
-	 * @param table б༭
+	 * 设置序列编辑表
+	 * @param table 序列编辑表
 	 */
 	public void setSeriesTable( TableInputSeries table ) {
 		this.seriesTable = table;
@@ -499,7 +499,7 @@ public class TableParamEdit extends JTableEx {
 	}
 	
 	/**
-	 * ʵ˫ʱ
+	 * 实现鼠标双击时间
 	 */
 	public void doubleClicked(int xpos, int ypos, int row, int col,
 			MouseEvent e) {
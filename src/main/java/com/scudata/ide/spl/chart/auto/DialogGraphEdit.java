@@ -13,10 +13,10 @@ import com.scudata.ide.spl.dialog.DialogDisplayChart;
 import com.scudata.ide.spl.resources.*;
 
 /**
- * ͼԱ༭
+ * 图形属性编辑器
  * 
- * Ӧóֱʹýͼʱ
- * ʹøôʱ༭ͼ
+ * 应用程序主面板中直接使用结果序表绘图时
+ * 使用该窗口临时编辑图形属性
  * 
  * @author Joancy
  *
@@ -32,8 +32,8 @@ public class DialogGraphEdit extends JDialog{
 	MessageManager mm = ChartMessage.get();
 	private DialogDisplayChart ddc;
 	/**
-	 * ͼԱ༭
-	 * @param ddc ʾͼθ
+	 * 构建图形属性编辑器
+	 * @param ddc 显示图形父窗口
 	 */
 	public DialogGraphEdit( DialogDisplayChart ddc) {
 		super(GV.appFrame);
@@ -86,7 +86,7 @@ public class DialogGraphEdit extends JDialog{
 	}
 	
 	/**
-	 * ݵǰˢ¸ڵʾͼ
+	 * 根据当前属性设置刷新父窗口的显示图形
 	 */
 	public void refreshDDC(){
 		HashMap<String,Object> p = elmInfo.getProperties(propPanel.infoList);
@@ -94,7 +94,7 @@ public class DialogGraphEdit extends JDialog{
 	}
 	
 	/**
-	 * ʾϸϢ
+	 * 显示参数的详细信息
 	 */
 	public void dispDetail() {
 		propPanel.setElementInfo(elmInfo);
@@ -10,7 +10,7 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.spl.resources.ChartMessage;
 
 /**
- * ͳͼѡ 
+ * 统计图类型下拉选择框 
  */
  public class JComboBoxGraph extends JComboBox<Object> {
 	private static final long serialVersionUID = 1L;
@@ -19,23 +19,23 @@ import com.scudata.ide.spl.resources.ChartMessage;
 		MessageManager mm = ChartMessage.get();
 		setRenderer(new TypeSelectBoxRenderer());
 
-		addItem(new TypeItem(mm.getMessage("GraphType.COL"), GraphTypes.GT_COL)); // ͼ
-		addItem(new TypeItem(mm.getMessage("GraphType.PIE"), GraphTypes.GT_PIE)); // "ͼ"
+		addItem(new TypeItem(mm.getMessage("GraphType.COL"), GraphTypes.GT_COL)); // 柱形图
+		addItem(new TypeItem(mm.getMessage("GraphType.PIE"), GraphTypes.GT_PIE)); // "饼型图"
 		addItem(new TypeItem(mm.getMessage("GraphType.LINE"),
 				GraphTypes.GT_LINE));
 	}
 
 	/**
-	 * ȡֵ
-	 * @return ͼ
+	 * 获取下拉值
+	 * @return 图形类型
 	 */
 	public byte getValue() {
 		return ((TypeItem) getSelectedItem()).getType();
 	}
 
 	/**
-	 * ͼ
-	 * @param type 
+	 * 设置图形类型
+	 * @param type 类型
 	 */
 	public void setValue(byte type) {
 		for (int i = 0; i < getItemCount(); i++) {
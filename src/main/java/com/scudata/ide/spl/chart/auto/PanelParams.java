@@ -9,7 +9,7 @@ import com.scudata.ide.spl.chart.TableParamEdit;
 import java.awt.*;
 
 /**
- * ༭
+ * 参数编辑面板
  * 
  * @author Joancy
  *
@@ -22,25 +22,25 @@ public abstract class PanelParams extends JPanel{
 	private Dialog owner;
 
 	/**
-	 * òϢ
-	 * @param info Ϣ
+	 * 设置参数信息
+	 * @param info 参数信息
 	 */
 	public void setElementInfo( ElementInfo info ) {
 		init( owner, info.getParamInfoList() );
 	}
 
 	/**
-	 * òϢб
-	 * @param owner 
-	 * @param list Ϣб
+	 * 设置参数信息列表
+	 * @param owner 父窗口
+	 * @param list 参数信息列表
 	 */
 	public void setParamInfoList( Dialog owner, ParamInfoList list ) {
 		init( owner, list );
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public PanelParams( Dialog owner ) {
 		this.owner = owner;
@@ -49,14 +49,14 @@ public abstract class PanelParams extends JPanel{
 	public abstract void refresh();
 
 	/**
-	 * չв
+	 * 展开所有参数
 	 */
 	public void expandAll(){
 		table.expandAll();
 	}
 	
 	/**
-	 * в
+	 * 收起所有参数
 	 */
 	public void collapseAll(){
 		table.collapseAll();
@@ -65,7 +65,7 @@ public abstract class PanelParams extends JPanel{
 	private void init( Dialog owner, ParamInfoList list ) {
 		this.infoList = list;
 		setLayout( new BorderLayout() );
-//		ɽƴ
+//		数据由界面拼出
 		list.delete("categories");
 		list.delete("values");
 		table = new TableParamEdit( owner, list ){
@@ -92,16 +92,16 @@ public abstract class PanelParams extends JPanel{
 	}
 
 	/**
-	 * ȡ༭
-	 * @return 
+	 * 获取参数编辑表
+	 * @return 参数表
 	 */
 	public TableParamEdit getParamTable() {
 		return table;
 	}
 
 	/**
-	 * ȡϢб
-	 * @return Ϣб
+	 * 获取参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		table.acceptText();
@@ -9,7 +9,7 @@ import com.scudata.chart.*;
 import com.scudata.ide.common.swing.*;
 
 /**
- * ֱ߼ͷб
+ * 直线箭头下拉列表
  * 
  * @author Joancy
  *
@@ -18,10 +18,10 @@ public class ArrowComboBox extends JComboBox<Object> {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * һб
-	 * @param isSimpleArrow Ƿ༭򵥼ͷ
-	 * 򵥼ͷʱ֣ͼָ
-	 * жּͷ
+	 * 构建一个下拉列表
+	 * @param isSimpleArrow 是否仅编辑简单箭头
+	 * 简单箭头时仅左右无三种，简单类型用于折线图的指向
+	 * 否则有多种箭头类型
 	 */
 	public ArrowComboBox(boolean isSimpleArrow) {
 		Object[] vals;
@@ -51,8 +51,8 @@ public class ArrowComboBox extends JComboBox<Object> {
 	}
 
 	/**
-	 * ȡֵ
-	 * @return ͷֵ
+	 * 获取下拉值
+	 * @return 箭头的整数值
 	 */
 	public int getValue() {
 		return ( ( Integer ) getEditor().getItem() ).intValue();
@@ -126,7 +126,7 @@ class ArrowRender extends JLabel implements ListCellRenderer, TableCellRenderer
 	}
 
 	/**
-	 * ʵָ󷽷
+	 * 实现父类抽象方法
 	 */
 	public Component getTableCellRendererComponent( JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column ) {
 		setText( " " );
@@ -149,7 +149,7 @@ class ArrowRender extends JLabel implements ListCellRenderer, TableCellRenderer
 }
 
 /**
- * ͷͼ
+ * 箭头图标绘制类
  * 
  * @author Joancy
  *
@@ -174,7 +174,7 @@ class ArrowIcon implements Icon {
 			int x2 = x+width-15;
 			int y2 = y1;
 			g.drawLine( x1, y1, x2, y2 );
-			if(type==Consts.LINE_ARROW_L){//ͷʱ˵
+			if(type==Consts.LINE_ARROW_L){//左箭头时，给定左端点
 				Utils.drawLineArrow( ( Graphics2D ) g, x1, y1, 0, type );
 				return;
 			}
@@ -13,7 +13,7 @@ import com.scudata.ide.common.swing.*;
 import com.scudata.ide.spl.resources.*;
 
 /**
- * ɫ༭Ի
+ * 填充颜色编辑对话框
  * 
  * @author Joancy
  *
@@ -39,9 +39,9 @@ public class ChartColorDialog extends JDialog {
 
 	boolean isInit = false;
 	/**
-	 * һɫ༭Ի
+	 * 构建一个填充颜色编辑对话框
 	 * 
-	 * @param owner 
+	 * @param owner 父窗口
 	 */
 	public ChartColorDialog( Dialog owner ) {
 		super( owner );
@@ -100,7 +100,7 @@ public class ChartColorDialog extends JDialog {
 			}
 		});
 		jianjin.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
-		jianjin.setText( ChartMessage.get().getMessage( "ccd.usegradient" ) );  //"ʹýɫ" );
+		jianjin.setText( ChartMessage.get().getMessage( "ccd.usegradient" ) );  //"使用渐近色" );
 		jianjin.addActionListener( new java.awt.event.ActionListener() {
 			public void actionPerformed( ActionEvent e ) {
 				jianjin_actionPerformed( e );
@@ -108,13 +108,13 @@ public class ChartColorDialog extends JDialog {
 		} );
 		okbtn.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
 		okbtn.setMargin( new Insets( 2, 5, 2, 5 ) );
-		okbtn.setText( ChartMessage.get().getMessage( "button.ok" ) );  //"ȷ(O)" );
+		okbtn.setText( ChartMessage.get().getMessage( "button.ok" ) );  //"确定(O)" );
 		okbtn.addActionListener( new java.awt.event.ActionListener() {
 			public void actionPerformed( ActionEvent e ) {
 				okbtn_actionPerformed( e );
 			}
 		} );
-		cancelbtn.setText( ChartMessage.get().getMessage( "button.cancel" ) );  //"ȡ(C)" );
+		cancelbtn.setText( ChartMessage.get().getMessage( "button.cancel" ) );  //"取消(C)" );
 		cancelbtn.addActionListener( new java.awt.event.ActionListener() {
 			public void actionPerformed( ActionEvent e ) {
 				cancelbtn_actionPerformed( e );
@@ -123,12 +123,12 @@ public class ChartColorDialog extends JDialog {
 		cancelbtn.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
 		cancelbtn.setMargin( new Insets( 2, 5, 2, 5 ) );
 		labelC1.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
-		labelC1.setText( ChartMessage.get().getMessage( "ccd.color1" ) );  //"ɫһ" );
-		labelC2.setText( ChartMessage.get().getMessage( "ccd.color2" ) );  //"ɫ" );
+		labelC1.setText( ChartMessage.get().getMessage( "ccd.color1" ) );  //"颜色一" );
+		labelC2.setText( ChartMessage.get().getMessage( "ccd.color2" ) );  //"颜色二" );
 		labelC2.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
 		labelAngle.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
 		labelAngle.setToolTipText( "" );
-		labelAngle.setText( ChartMessage.get().getMessage( "ccd.angle" ) ); //"Ƕ" );
+		labelAngle.setText( ChartMessage.get().getMessage( "ccd.angle" ) ); //"渐近角度" );
 		angle.addChangeListener( new javax.swing.event.ChangeListener() {
 			public void stateChanged( ChangeEvent e ) {
 				angle_stateChanged( e );
@@ -193,8 +193,8 @@ public class ChartColorDialog extends JDialog {
 	}
 	
 	/**
-	 * ɫ
-	 * @param c ɫ
+	 * 设置填充颜色对象
+	 * @param c 填充颜色
 	 */
 	public void setChartColor( ChartColor c ) {
 		if ( c == null ) {
@@ -216,16 +216,16 @@ public class ChartColorDialog extends JDialog {
 	}
 
 	/**
-	 * شûѡ
-	 * @return ѡ
+	 * 返回窗口用户选项
+	 * @return 窗口选项
 	 */
 	public int getOption() {
 		return m_option;
 	}
 
 	/**
-	 * ر༭õɫ
-	 * @return ɫ
+	 * 返回编辑好的填充颜色
+	 * @return 填充颜色
 	 */
 	public ChartColor getChartColor() {
 		return cc;
@@ -10,7 +10,7 @@ import com.scudata.dm.*;
 import com.scudata.ide.common.swing.*;
 
 /**
- * ɫ༭
+ * 填充颜色编辑器
  * 
  * @author Joancy
  *
@@ -24,8 +24,8 @@ public class ChartColorEditor extends DefaultCellEditor {
 	private ChartColorIcon icon = new ChartColorIcon();
 
 	/**
-	 * һɫ༭
-	 * @param owner 
+	 * 构建一个填充颜色编辑器
+	 * @param owner 父窗口
 	 */
 	public ChartColorEditor(Dialog owner) {
 		super(new JCheckBox());
@@ -55,7 +55,7 @@ public class ChartColorEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ʵָĳ󷽷
+	 * 实现父类的抽象方法
 	 */
 	public Component getTableCellEditorComponent(JTable table, Object value,
 			boolean isSelected, int row, int column) {
@@ -78,14 +78,14 @@ public class ChartColorEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 获取编辑值
 	 */
 	public Object getCellEditorValue() {
 		return editingVal;
 	}
 
 	/**
-	 * ֹͣ༭
+	 * 停止编辑
 	 */
 	public boolean stopCellEditing() {
 		return super.stopCellEditing();
@@ -97,7 +97,7 @@ public class ChartColorEditor extends DefaultCellEditor {
 }
 
 /**
- * ɫȾ
+ * 填充颜色渲染类
  * 
  * @author Joancy
  *
@@ -147,7 +147,7 @@ class ChartColorRender extends JLabel implements TableCellRenderer {
 }
 
 /**
- * ɫͼ
+ * 填充颜色下拉图标类
  * 
  * @author Joancy
  *
@@ -5,7 +5,7 @@ import java.awt.event.*;
 import javax.swing.*;
 
 /***
- * ڱ༭
+ * 日期编辑器
  * 
  * @author Joancy
  *
@@ -21,8 +21,8 @@ public class DateEditor extends DefaultCellEditor {
 	private JButton button = new JButton();
 
 	/**
-	 * һڱ༭
-	 * @param owner 
+	 * 构建一个日期编辑器
+	 * @param owner 父窗口
 	 */
 	public DateEditor( Dialog owner ) {
 		super( new JCheckBox() );
@@ -61,7 +61,7 @@ public class DateEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ʵָĳ󷽷
+	 * 实现父类的抽象方法
 	 */
 	public Component getTableCellEditorComponent( JTable table, Object value,
 												  boolean isSelected, int row, int column ) {
@@ -78,14 +78,14 @@ public class DateEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 获取编辑值
 	 */
 	public Object getCellEditorValue() {
 		return editingVal;
 	}
 
 	/**
-	 * ֹͣ༭
+	 * 停止编辑
 	 */
 	public boolean stopCellEditing() {
 		return super.stopCellEditing();
@@ -8,7 +8,7 @@ import java.awt.*;
 import javax.swing.*;
 
 /**
- * ȱʡȾ
+ * 缺省参数表渲染类
  * 
  * @author Joancy
  *
@@ -19,15 +19,15 @@ public class DefaultParamTableRender implements TableCellRenderer {
 	private int align = JLabel.LEFT;
 
 	/**
-	 * һȱʡȾ
+	 * 创建一个缺省参数表渲染器
 	 */
 	public DefaultParamTableRender() {
 		this( JLabel.LEFT );
 	}
 
 	/**
-	 * һȱʡȾ
-	 * @param align ı뷽ʽ
+	 * 创建一个缺省参数表渲染器
+	 * @param align 文本对齐方式
 	 */
 	public DefaultParamTableRender( int align ) {
 		this.align = align;
@@ -38,7 +38,7 @@ public class DefaultParamTableRender implements TableCellRenderer {
 	}
 
 	/**
-	 * ʵָ󷽷
+	 * 实现父类抽象方法
 	 */
 	public Component getTableCellRendererComponent( JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column ) {
 		renderer = expRender;
@@ -13,7 +13,7 @@ import com.scudata.ide.common.resources.*;
 import com.scudata.ide.common.swing.*;
 
 /**
- * ѡ
+ * 日期类数据选择器
  * 
  * @author Joancy
  *
@@ -41,7 +41,7 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * ȱʡ캯
+	 * 缺省构造函数
 	 */
 	public DialogDateChooser() {
 		super();
@@ -49,8 +49,8 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public DialogDateChooser( Dialog owner ) {
 		super( owner );
@@ -58,9 +58,9 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
-	 * @param modal ģ̬
+	 * 构造函数
+	 * @param owner 父窗口
+	 * @param modal 模态
 	 */
 	public DialogDateChooser( Dialog owner, boolean modal ) {
 		super( owner, modal );
@@ -68,9 +68,9 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
-	 * @param title ڱ
+	 * 构造函数
+	 * @param owner 父窗口
+	 * @param title 窗口标题
 	 */
 	public DialogDateChooser( Dialog owner, String title ) {
 		super( owner, title );
@@ -78,10 +78,10 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
-	 * @param title ڱ
-	 * @param modal ģ̬
+	 * 构造函数
+	 * @param owner 父窗口
+	 * @param title 窗口标题
+	 * @param modal 模态
 	 */
 	public DialogDateChooser( Dialog owner, String title, boolean modal ) {
 		super( owner, title, modal );
@@ -89,11 +89,11 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
-	 * @param title ڱ
-	 * @param modal ģ̬
-	 * @param gc ͼ
+	 * 构造函数
+	 * @param owner 父窗口
+	 * @param title 窗口标题
+	 * @param modal 模态
+	 * @param gc 图形配置
 	 */
 	public DialogDateChooser( Dialog owner, String title, boolean modal,
 							  GraphicsConfiguration gc ) {
@@ -102,8 +102,8 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗体
 	 */
 	public DialogDateChooser( Frame owner ) {
 		super( owner );
@@ -111,9 +111,9 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
-	 * @param modal ģ̬
+	 * 构造函数
+	 * @param owner 父窗体
+	 * @param modal 模态
 	 */
 	public DialogDateChooser( Frame owner, boolean modal ) {
 		super( owner, modal );
@@ -121,9 +121,9 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
-	 * @param title 
+	 * 构造函数
+	 * @param owner 父窗体
+	 * @param title 标题
 	 */
 	public DialogDateChooser( Frame owner, String title ) {
 		super( owner, title );
@@ -131,10 +131,10 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
-	 * @param title 
-	 * @param modal ģ̬
+	 * 构造函数
+	 * @param owner 父窗体
+	 * @param title 标题
+	 * @param modal 模态
 	 */
 	public DialogDateChooser( Frame owner, String title, boolean modal ) {
 		super( owner, title, modal );
@@ -142,11 +142,11 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * 캯
-	 * @param owner 
-	 * @param title 
-	 * @param modal ģ̬
-	 * @param gc ͼ
+	 * 构造函数
+	 * @param owner 父窗体
+	 * @param title 标题
+	 * @param modal 模态
+	 * @param gc 图形配置
 	 */
 	public DialogDateChooser( Frame owner, String title, boolean modal,
 							  GraphicsConfiguration gc ) {
@@ -155,8 +155,8 @@ public class DialogDateChooser extends javax.swing.JDialog {
 	}
 
 	/**
-	 * ʼ
-	 * @param calendar 
+	 * 初始化日期
+	 * @param calendar 日历对象
 	 */
 	public void initDate( Calendar calendar ) {
 		int m = calendar.get( Calendar.MONTH );
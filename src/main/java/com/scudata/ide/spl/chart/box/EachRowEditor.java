@@ -12,7 +12,7 @@ import com.scudata.chart.*;
 import com.scudata.ide.common.swing.*;
 
 /**
- *ԿԪ༭
+ *属性框单元编辑器
  */
 public class EachRowEditor implements TableCellEditor {
 	int currentRow, editTypeCol;
@@ -21,7 +21,7 @@ public class EachRowEditor implements TableCellEditor {
 	private TableCellEditor editor;
 
 	public TableCellEditor defaultEditor;
-//༭
+//公共编辑器
 	private DefaultCellEditor checkEditor;
 
 	private TableCellEditor lineStyleEditor;
@@ -55,10 +55,10 @@ public class EachRowEditor implements TableCellEditor {
 
 	ActionListener al;
 	/**
-	 * 캯
-	 * @param table 
-	 * @param editTypeCol ༭
-	 * @param owner 
+	 * 构造函数
+	 * @param table 本体表
+	 * @param editTypeCol 编辑类型
+	 * @param owner 父窗口
 	 */
 	public EachRowEditor( final JTableEx table, int editTypeCol, Dialog owner ) {
 		this.table = table;
@@ -78,7 +78,7 @@ public class EachRowEditor implements TableCellEditor {
 	}
 
 	/**
-	 * ʵָ󷽷
+	 * 实现父类抽象方法
 	 */
 	public Component getTableCellEditorComponent( JTable table,
 												  Object value,
@@ -91,29 +91,29 @@ public class EachRowEditor implements TableCellEditor {
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 获取编辑值
 	 */
 	public Object getCellEditorValue() {
 		return editor.getCellEditorValue();
 	}
 
 	/**
-	 * ֹͣ༭
+	 * 停止编辑
 	 */
 	public boolean stopCellEditing() {
 		return editor.stopCellEditing();
 	}
 
 	/**
-	 * ȡ༭
+	 * 取消编辑
 	 */
 	public void cancelCellEditing() {
 		editor.cancelCellEditing();
 	}
 
 	/**
-	 * Ƿб༭
-	 * @param anEvent ¼
+	 * 返回是否运行编辑
+	 * @param anEvent 事件对象
 	 */
 	public boolean isCellEditable( EventObject anEvent ) {
 		if(anEvent instanceof MouseEvent){
@@ -125,22 +125,22 @@ public class EachRowEditor implements TableCellEditor {
 	}
 
 	/**
-	 * Ӹӱ༭
+	 * 增加格子编辑监听器
 	 */
 	public void addCellEditorListener( CellEditorListener l ) {
 		editor.addCellEditorListener( l );
 	}
 
 	/**
-	 * Ƴӱ༭
+	 * 移除格子编辑监听器
 	 */
 	public void removeCellEditorListener( CellEditorListener l ) {
 		editor.removeCellEditorListener( l );
 	}
 
 	/**
-	 * ѡи
-	 * @param anEvent ¼
+	 * 选中格子
+	 * @param anEvent 事件对象
 	 */
 	public boolean shouldSelectCell( EventObject anEvent ) {
 		return editor.shouldSelectCell( anEvent );
@@ -157,11 +157,11 @@ public class EachRowEditor implements TableCellEditor {
 	}
 
 	/**
-	 * row̬ѡ༭
-	 * @param tbl 
-	 * @param row к
-	 * @param editTypeColumn ༭
-	 * @return Ӧ༭
+	 * 根据行row动态选择编辑器
+	 * @param tbl 本体表
+	 * @param row 行号
+	 * @param editTypeColumn 编辑类型所在列
+	 * @return 对应编辑器
 	 */
 	public TableCellEditor selectEditor( JTable tbl, int row, int editTypeColumn ) {
 		int editType = ( ( Integer ) tbl.getModel().getValueAt( row, editTypeColumn ) ).intValue();
@@ -169,9 +169,9 @@ public class EachRowEditor implements TableCellEditor {
 	}
 
 	/**
-	 * ݱ༭editTypeضӦ༭
-	 * @param editType ༭
-	 * @return ༭
+	 * 根据编辑类型editType返回对应编辑器
+	 * @param editType 编辑类型
+	 * @return 编辑器
 	 */
 	public TableCellEditor selectEditor( int editType ) {
 		TableCellEditor editor1 = null;
@@ -467,8 +467,8 @@ public class EachRowEditor implements TableCellEditor {
 	}
 
 	/**
-	 * ø
-	 * @param dialog 
+	 * 设置父窗口
+	 * @param dialog 父窗口
 	 */
 	public void setOwner( Dialog dialog ) {
 		owner = dialog;
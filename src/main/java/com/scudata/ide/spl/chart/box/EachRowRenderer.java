@@ -9,7 +9,7 @@ import com.scudata.chart.*;
 import com.scudata.ide.common.swing.*;
 
 /**
- *ԿԪȾ
+ *属性框单元渲染器
  */
 public class EachRowRenderer implements TableCellRenderer {
 	int editTypeCol;
@@ -41,8 +41,8 @@ public class EachRowRenderer implements TableCellRenderer {
 	private TableCellRenderer inputBarTypeRender,inputCharSetRender,inputRecErrorRender;
 
 	/**
-	 * 캯
-	 * @param editTypeCol ༭
+	 * 构造函数
+	 * @param editTypeCol 编辑类型所在列
 	 */
 	public EachRowRenderer( int editTypeCol ) {
 		this.editTypeCol = editTypeCol;
@@ -51,7 +51,7 @@ public class EachRowRenderer implements TableCellRenderer {
 	}
 
 	/**
-	 * ʵָ󷽷
+	 * 实现父类抽象方法
 	 */
 	public Component getTableCellRendererComponent( JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column ) {
 		render = selectRenderer( table, row, editTypeCol );
@@ -59,11 +59,11 @@ public class EachRowRenderer implements TableCellRenderer {
 	}
 
 	/**
-	 * ѡȾ
-	 * @param tbl 
-	 * @param row к
-	 * @param editTypeColumn ༭к
-	 * @return Ⱦ
+	 * 选择格子渲染器
+	 * @param tbl 本体表
+	 * @param row 行号
+	 * @param editTypeColumn 编辑类型所在列号
+	 * @return 格子渲染器
 	 */
 	public TableCellRenderer selectRenderer( JTable tbl, int row, int editTypeColumn ) {
 		int editType = ( ( Integer ) tbl.getModel().getValueAt( row, editTypeColumn ) ).intValue();
@@ -71,9 +71,9 @@ public class EachRowRenderer implements TableCellRenderer {
 	}
 
 	/**
-	 * ݱ༭editTypeضӦȾ
-	 * @param editType ༭
-	 * @return ӦȾ
+	 * 根据编辑类型editType返回对应格子渲染器
+	 * @param editType 编辑类型
+	 * @return 对应格子渲染器
 	 */
 	public TableCellRenderer selectRenderer( int editType ) {
 		TableCellRenderer render1 = null;
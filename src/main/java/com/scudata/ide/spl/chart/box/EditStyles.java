@@ -12,7 +12,7 @@ import com.scudata.ide.common.swing.*;
 import com.scudata.ide.spl.resources.*;
 
 /**
- * ༭ĸ󴴽
+ * 编辑风格的各种下拉对象创建工具类
  * 
  * @author Joancy
  *
@@ -20,8 +20,8 @@ import com.scudata.ide.spl.resources.*;
 public class EditStyles {
 	static MessageManager mm = ChartMessage.get();
 	/**
-	 * 
-	 * @return JComboBoxEx б
+	 * 获得字体下拉框
+	 * @return JComboBoxEx 字体下拉列表
 	 */
 	public static JComboBoxEx getFontBox() {
 		Vector<String> fontV = new Section( GM.getFontNames()).toVector();
@@ -31,8 +31,8 @@ public class EditStyles {
 	}
 
 	/**
-	 * ÿ̶
-	 * @return JComboBoxEx ̶б
+	 * 获得刻度线下拉框
+	 * @return JComboBoxEx 刻度线下拉列表
 	 */
 	public static JComboBoxEx getTicksBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -41,18 +41,18 @@ public class EditStyles {
 		code.add( new Integer( Consts.TICK_LEFTDOWN ) );
 		code.add( new Integer( Consts.TICK_CROSS ) );
 		code.add( new Integer( Consts.TICK_NONE ) );
-		disp.add( mm.getMessage( "options.ticks1" ) );  //"һ" );
-		disp.add( mm.getMessage( "options.ticks2" ) );  //"" );
-		disp.add( mm.getMessage( "options.ticks3" ) );  //"ѹ" );
-		disp.add( mm.getMessage( "options.ticks4" ) );  //"޿̶" );
+		disp.add( mm.getMessage( "options.ticks1" ) );  //"靠右或上" );
+		disp.add( mm.getMessage( "options.ticks2" ) );  //"靠左或下" );
+		disp.add( mm.getMessage( "options.ticks3" ) );  //"压轴" );
+		disp.add( mm.getMessage( "options.ticks4" ) );  //"无刻度线" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * 굥λб
-	 * @return JComboBoxEx 굥λб
+	 * 获得坐标单位下拉列表
+	 * @return JComboBoxEx 坐标单位下拉列表
 	 */
 	public static JComboBoxEx getUnitBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -67,24 +67,24 @@ public class EditStyles {
 		code.add( new Integer( Consts.NUNIT_HUNDRED_MILLIONS ) );
 		code.add( new Integer( Consts.NUNIT_THOUSAND_MILLIONS ) );
 		code.add( new Integer( Consts.NUNIT_BILLIONS ) );
-		disp.add( mm.getMessage( "options.unit1" ) );  //"" );
-		disp.add( mm.getMessage( "options.unit2" ) );  //"" );
-		disp.add( mm.getMessage( "options.unit3" ) );  //"ǧ" );
-		disp.add( mm.getMessage( "options.unit4" ) );  //"" );
-		disp.add( mm.getMessage( "options.unit5" ) );  //"ʮ" );
-		disp.add( mm.getMessage( "options.unit6" ) );  //"" );
-		disp.add( mm.getMessage( "options.unit7" ) );  //"ǧ" );
-		disp.add( mm.getMessage( "options.unit8" ) );  //"" );
-		disp.add( mm.getMessage( "options.unit9" ) );  //"ʮ" );
-		disp.add( mm.getMessage( "options.unit10" ) );  //"" );
+		disp.add( mm.getMessage( "options.unit1" ) );  //"无" );
+		disp.add( mm.getMessage( "options.unit2" ) );  //"百" );
+		disp.add( mm.getMessage( "options.unit3" ) );  //"千" );
+		disp.add( mm.getMessage( "options.unit4" ) );  //"万" );
+		disp.add( mm.getMessage( "options.unit5" ) );  //"十万" );
+		disp.add( mm.getMessage( "options.unit6" ) );  //"百万" );
+		disp.add( mm.getMessage( "options.unit7" ) );  //"千万" );
+		disp.add( mm.getMessage( "options.unit8" ) );  //"亿" );
+		disp.add( mm.getMessage( "options.unit9" ) );  //"十亿" );
+		disp.add( mm.getMessage( "options.unit10" ) );  //"万亿" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * ϵб
-	 * @return JComboBoxEx ϵб
+	 * 获得坐标系下拉列表
+	 * @return JComboBoxEx 坐标系下拉列表
 	 */
 	public static JComboBoxEx getCoordinateBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -97,22 +97,22 @@ public class EditStyles {
 		code.add( new Integer( Consts.COORDINATES_POLAR_VIRTUAL_3D ) );
 		code.add( new Integer( Consts.COORDINATES_LEGEND ) );
 		code.add( new Integer( Consts.COORDINATES_FREE ) );
-		disp.add( mm.getMessage( "options.coord1" ) );  //"ֱϵ" );
-		disp.add( mm.getMessage( "options.coord2" ) );  //"ϵ" );
-		disp.add( mm.getMessage( "options.coord3" ) );  //"չֱϵ" );
-		disp.add( mm.getMessage( "options.coord4" ) );  //"Чƽֱϵ" );
-		disp.add( mm.getMessage( "options.coord5" ) );  //"չּϵ" );
-		disp.add( mm.getMessage( "options.coord6" ) );  //"Чƽ漫ϵ" );
-		disp.add( mm.getMessage( "options.coord7" ) );  //"ͼϵ" );
-		disp.add( mm.getMessage( "options.coord8" ) );  //"ϵ" );
+		disp.add( mm.getMessage( "options.coord1" ) );  //"直角坐标系" );
+		disp.add( mm.getMessage( "options.coord2" ) );  //"极坐标系" );
+		disp.add( mm.getMessage( "options.coord3" ) );  //"立体展现直角坐标系" );
+		disp.add( mm.getMessage( "options.coord4" ) );  //"立体效果的平面直角坐标系" );
+		disp.add( mm.getMessage( "options.coord5" ) );  //"立体展现极坐标系" );
+		disp.add( mm.getMessage( "options.coord6" ) );  //"立体效果的平面极坐标系" );
+		disp.add( mm.getMessage( "options.coord7" ) );  //"图例坐标系" );
+		disp.add( mm.getMessage( "options.coord8" ) );  //"自由坐标系" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * λб
-	 * @return JComboBoxEx λб
+	 * 获得坐标轴位置下拉列表
+	 * @return JComboBoxEx 坐标轴位置下拉列表
 	 */
 	public static JComboBoxEx getAxisBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -121,18 +121,18 @@ public class EditStyles {
 		code.add( new Integer( Consts.AXIS_LOC_V ) );
 		code.add( new Integer( Consts.AXIS_LOC_POLAR ) );
 		code.add( new Integer( Consts.AXIS_LOC_ANGLE ) );
-		disp.add( mm.getMessage( "options.axis1" ) );  //"" );
-		disp.add( mm.getMessage( "options.axis2" ) );  //"" );
-		disp.add( mm.getMessage( "options.axis3" ) );  //"" );
-		disp.add( mm.getMessage( "options.axis4" ) );  //"" );
+		disp.add( mm.getMessage( "options.axis1" ) );  //"横轴" );
+		disp.add( mm.getMessage( "options.axis2" ) );  //"纵轴" );
+		disp.add( mm.getMessage( "options.axis3" ) );  //"极轴" );
+		disp.add( mm.getMessage( "options.axis4" ) );  //"角轴" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * б
-	 * @return JComboBoxEx б
+	 * 获得柱型下拉列表
+	 * @return JComboBoxEx 柱子下拉列表
 	 */
 	public static JComboBoxEx getColumnStyleBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -140,17 +140,17 @@ public class EditStyles {
 		code.add( new Integer( Consts.COL_COBOID ) );
 		code.add( new Integer( Consts.COL_CUBE ) );
 		code.add( new Integer( Consts.COL_CYLINDER ) );
-		disp.add( mm.getMessage( "options.bar1" ) );  //"" );
-		disp.add( mm.getMessage( "options.bar2" ) );  //"巽" );
-		disp.add( mm.getMessage( "options.bar3" ) );  //"Բ" );
+		disp.add( mm.getMessage( "options.bar1" ) );  //"方柱" );
+		disp.add( mm.getMessage( "options.bar2" ) );  //"立体方柱" );
+		disp.add( mm.getMessage( "options.bar3" ) );  //"圆柱" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * ˮƽб
-	 * @return JComboBoxEx ˮƽб
+	 * 获得水平对齐下拉列表
+	 * @return JComboBoxEx 水平对齐下拉列表
 	 */
 	public static JComboBoxEx getHAlignBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -158,17 +158,17 @@ public class EditStyles {
 		code.add( new Integer( Consts.HALIGN_LEFT ) );
 		code.add( new Integer( Consts.HALIGN_CENTER ) );
 		code.add( new Integer( Consts.HALIGN_RIGHT ) );
-		disp.add( mm.getMessage( "options.align1" ) );  //"" );
-		disp.add( mm.getMessage( "options.align2" ) );  //"ж" );
-		disp.add( mm.getMessage( "options.align3" ) );  //"Ҷ" );
+		disp.add( mm.getMessage( "options.align1" ) );  //"左对齐" );
+		disp.add( mm.getMessage( "options.align2" ) );  //"中对齐" );
+		disp.add( mm.getMessage( "options.align3" ) );  //"右对齐" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * ôֱб
-	 * @return JComboBoxEx ֱб
+	 * 获得垂直对齐下拉列表
+	 * @return JComboBoxEx 垂直对齐下拉列表
 	 */
 	public static JComboBoxEx getVAlignBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -176,17 +176,17 @@ public class EditStyles {
 		code.add( new Integer( Consts.VALIGN_TOP ) );
 		code.add( new Integer( Consts.VALIGN_MIDDLE ) );
 		code.add( new Integer( Consts.VALIGN_BOTTOM ) );
-		disp.add( mm.getMessage( "options.valign1" ) );  //"" );
-		disp.add( mm.getMessage( "options.valign2" ) );  //"" );
-		disp.add( mm.getMessage( "options.valign3" ) );  //"" );
+		disp.add( mm.getMessage( "options.valign1" ) );  //"靠上" );
+		disp.add( mm.getMessage( "options.valign2" ) );  //"居中" );
+		disp.add( mm.getMessage( "options.valign3" ) );  //"靠下" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * ȡͼģʽб
-	 * @return ͼģʽб
+	 * 获取背景图填充模式下拉列表
+	 * @return 背景图填充模式下拉列表
 	 */
 	public static JComboBoxEx getImageMode() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -194,17 +194,17 @@ public class EditStyles {
 		code.add( new Integer( Consts.MODE_NONE ) );
 		code.add( new Integer( Consts.MODE_FILL ) );
 		code.add( new Integer( Consts.MODE_TILE ) );
-		disp.add( mm.getMessage( "options.modenone" ) );  //"" );
-		disp.add( mm.getMessage( "options.modefill" ) );  //"" );
-		disp.add( mm.getMessage( "options.modetile" ) );  //"ƽ" );
+		disp.add( mm.getMessage( "options.modenone" ) );  //"左上" );
+		disp.add( mm.getMessage( "options.modefill" ) );  //"填充" );
+		disp.add( mm.getMessage( "options.modetile" ) );  //"平铺" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 	
 	/**
-	 * ȡͼͼ״б
-	 * @return ͼͼ״б
+	 * 获取图例的图标形状下拉列表
+	 * @return 图例的图标形状下拉列表
 	 */
 	public static JComboBoxEx getLegendIconBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -214,19 +214,19 @@ public class EditStyles {
 		code.add( new Integer( Consts.LEGEND_LINE ) );
 		code.add( new Integer( Consts.LEGEND_LINEPOINT ) );
 		code.add( new Integer( Consts.LEGEND_NONE ) );
-		disp.add( mm.getMessage( "options.legendicon1" ) );  //"" );
-		disp.add( mm.getMessage( "options.legendicon2" ) );  //"" );
-		disp.add( mm.getMessage( "options.legendicon3" ) );  //"" );
-		disp.add( mm.getMessage( "options.legendicon4" ) );  //"" );
-		disp.add( mm.getMessage( "options.legendicon5" ) );  //"" );
+		disp.add( mm.getMessage( "options.legendicon1" ) );  //"矩形" );
+		disp.add( mm.getMessage( "options.legendicon2" ) );  //"点形" );
+		disp.add( mm.getMessage( "options.legendicon3" ) );  //"线形" );
+		disp.add( mm.getMessage( "options.legendicon4" ) );  //"点线" );
+		disp.add( mm.getMessage( "options.legendicon5" ) );  //"无" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * ȡڵλб
-	 * @return ڵλб
+	 * 获取日期单位下拉列表
+	 * @return 日期单位下拉列表
 	 */
 	public static JComboBoxEx getDateUnitBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -238,21 +238,21 @@ public class EditStyles {
 		code.add( new Integer( Consts.DATEUNIT_MINUTE ) );
 		code.add( new Integer( Consts.DATEUNIT_SECOND ) );
 		code.add( new Integer( Consts.DATEUNIT_MILLISECOND ) );
-		disp.add( mm.getMessage( "options.dateunit1" ) );  //"" );
-		disp.add( mm.getMessage( "options.dateunit2" ) );  //"" );
-		disp.add( mm.getMessage( "options.dateunit3" ) );  //"" );
-		disp.add( mm.getMessage( "options.dateunit4" ) );  //"ʱ" );
-		disp.add( mm.getMessage( "options.dateunit5" ) );  //"" );
-		disp.add( mm.getMessage( "options.dateunit6" ) );  //"" );
-		disp.add( mm.getMessage( "options.dateunit7" ) );  //"" );
+		disp.add( mm.getMessage( "options.dateunit1" ) );  //"年" );
+		disp.add( mm.getMessage( "options.dateunit2" ) );  //"月" );
+		disp.add( mm.getMessage( "options.dateunit3" ) );  //"日" );
+		disp.add( mm.getMessage( "options.dateunit4" ) );  //"时" );
+		disp.add( mm.getMessage( "options.dateunit5" ) );  //"分" );
+		disp.add( mm.getMessage( "options.dateunit6" ) );  //"秒" );
+		disp.add( mm.getMessage( "options.dateunit7" ) );  //"毫秒" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * ȡURLĿֵб
-	 * @return URLĿֵб
+	 * 获取URL目标值下拉列表
+	 * @return URL目标值下拉列表
 	 */
 	public static JComboBoxEx getUrlTargetBox() {
 		Vector<String> code = new Vector<String>();
@@ -261,10 +261,10 @@ public class EditStyles {
 		code.add( "_blank" );
 		code.add( "_parent" );
 		code.add( "_top" );
-		disp.add( mm.getMessage( "options.urltarget1" ) );  //"" );
-		disp.add( mm.getMessage( "options.urltarget2" ) );  //"´" );
-		disp.add( mm.getMessage( "options.urltarget3" ) );  //"" );
-		disp.add( mm.getMessage( "options.urltarget4" ) );  //"㴰" );
+		disp.add( mm.getMessage( "options.urltarget1" ) );  //"本窗口" );
+		disp.add( mm.getMessage( "options.urltarget2" ) );  //"新窗口" );
+		disp.add( mm.getMessage( "options.urltarget3" ) );  //"父窗口" );
+		disp.add( mm.getMessage( "options.urltarget4" ) );  //"顶层窗口" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		box.setEditable( true );
@@ -272,8 +272,8 @@ public class EditStyles {
 	}
 
 	/**
-	 * ֵ任б
-	 * @return JComboBoxEx ֵ任б
+	 * 获得数值变换类型下拉列表
+	 * @return JComboBoxEx 数值变换类型下拉列表
 	 */
 	public static JComboBoxEx getTransformBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -282,18 +282,18 @@ public class EditStyles {
 		code.add( new Integer( Consts.TRANSFORM_SCALE ) );
 		code.add( new Integer( Consts.TRANSFORM_LOG ) );
 		code.add( new Integer( Consts.TRANSFORM_EXP ) );
-		disp.add( mm.getMessage( "options.transform1" ) );  //"任" );
-		disp.add( mm.getMessage( "options.transform2" ) );  //"" );
-		disp.add( mm.getMessage( "options.transform3" ) );  //"" );
-		disp.add( mm.getMessage( "options.transform4" ) );  //"ָ" );
+		disp.add( mm.getMessage( "options.transform1" ) );  //"不变换" );
+		disp.add( mm.getMessage( "options.transform2" ) );  //"比例" );
+		disp.add( mm.getMessage( "options.transform3" ) );  //"对数" );
+		disp.add( mm.getMessage( "options.transform4" ) );  //"指数" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * ȡѻͼб
-	 * @return ѻͼб
+	 * 获取堆积图类型下拉列表
+	 * @return 堆积图类型下拉列表
 	 */
 	public static JComboBoxEx getStackTypeBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -301,17 +301,17 @@ public class EditStyles {
 		code.add( new Integer( Consts.STACK_NONE ) );
 		code.add( new Integer( Consts.STACK_PERCENT ) );
 		code.add( new Integer( Consts.STACK_VALUE ) );
-		disp.add( mm.getMessage( "options.stackNone" ) );  //"ѻ" );
-		disp.add( mm.getMessage( "options.stackPercent" ) );  //"ٷֱȶѻ" );
-		disp.add( mm.getMessage( "options.stackValue" ) );  //"ԭֵѻ" );
+		disp.add( mm.getMessage( "options.stackNone" ) );  //"不堆积" );
+		disp.add( mm.getMessage( "options.stackPercent" ) );  //"百分比堆积" );
+		disp.add( mm.getMessage( "options.stackValue" ) );  //"原值堆积" );
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * ȡֵʾб
-	 * @return ֵʾб
+	 * 获取数值显示类型下拉列表
+	 * @return 数值显示类型下拉列表
 	 */
 	public static JComboBoxEx getDisplayDataBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -321,19 +321,19 @@ public class EditStyles {
 		code.add( new Integer( IGraphProperty.DISPDATA_VALUE) );
 		code.add( new Integer( IGraphProperty.DISPDATA_NAME_PERCENTAGE) );
 		code.add( new Integer( IGraphProperty.DISPDATA_NAME_VALUE) );
-		disp.add( mm.getMessage( "options.dispDataNone" ) );  //"ʾ
-		disp.add( mm.getMessage( "options.dispDataPercent" ) );  //"ٷֱʾ
-		disp.add( mm.getMessage( "options.dispDataValue" ) );  //"ԭֵʾ
-		disp.add( mm.getMessage( "options.dispDataNamePercent" ) );  //ƺͰٷֱ
-		disp.add( mm.getMessage( "options.dispDataNameValue" ) );  //ƺֵ
+		disp.add( mm.getMessage( "options.dispDataNone" ) );  //"不显示
+		disp.add( mm.getMessage( "options.dispDataPercent" ) );  //"百分比显示
+		disp.add( mm.getMessage( "options.dispDataValue" ) );  //"原值显示
+		disp.add( mm.getMessage( "options.dispDataNamePercent" ) );  //名称和百分比
+		disp.add( mm.getMessage( "options.dispDataNameValue" ) );  //名称和值
 		JComboBoxEx box = new JComboBoxEx();
 		box.x_setData( code, disp );
 		return box;
 	}
 
 	/**
-	 * ȡͼλб
-	 * @return ͼλб
+	 * 获取图例方位下拉列表
+	 * @return 图例方位下拉列表
 	 */
 	public static JComboBoxEx getLegendLocationBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -343,7 +343,7 @@ public class EditStyles {
 		code.add( new Integer( IGraphProperty.LEGEND_BOTTOM) );
 		code.add( new Integer( IGraphProperty.LEGEND_LEFT) );
 		code.add( new Integer( IGraphProperty.LEGEND_RIGHT) );
-		disp.add( mm.getMessage( "options.dispDataNone" ) );  //"ʾ
+		disp.add( mm.getMessage( "options.dispDataNone" ) );  //"不显示
 		disp.add( mm.getMessage( "options.top" ) );
 		disp.add( mm.getMessage( "options.bottom" ) );
 		disp.add( mm.getMessage( "options.left" ) );
@@ -354,8 +354,8 @@ public class EditStyles {
 	}
 	
 	/**
-	 * ȡб
-	 * @return б
+	 * 获取条形码类型下拉列表
+	 * @return 条形码类型下拉列表
 	 */
 	public static JComboBoxEx getBarcodeType() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -374,7 +374,7 @@ public class EditStyles {
 		code.add( new Integer( Consts.TYPE_UPCA) );
 		code.add( new Integer( Consts.TYPE_QRCODE) );
 		
-		disp.add( mm.getMessage( "options.dispDataNone" ) );  //"ʾ
+		disp.add( mm.getMessage( "options.dispDataNone" ) );  //"不显示
 		disp.add( "Codabar" );
 		disp.add( "Code128Auto" );
 		disp.add( "Code128A" );
@@ -394,8 +394,8 @@ public class EditStyles {
 	}
 	
 	/**
-	 * ȡַб
-	 * @return ַб
+	 * 获取字符集下拉列表
+	 * @return 字符集下拉列表
 	 */
 	public static JComboBoxEx getCharSet() {
 		Vector<String> code = new Vector<String>();
@@ -409,11 +409,11 @@ public class EditStyles {
 	}
 
 	/**
-	 * ȡάݴб
-	 * @return άݴб
+	 * 获取二维码容错率下拉列表
+	 * @return 二维码容错率下拉列表
 	 */
 	public static JComboBoxEx getRecError() {
-		Vector<String> code = new Vector<String>();//L(7%)M(15%)Q(25%)H(30%)
+		Vector<String> code = new Vector<String>();//L(7%)、M(15%)、Q(25%)、H(30%)
 	    Vector<String> disp = new Vector<String>();
 	    code.add("L");
 	    code.add("M");
@@ -430,8 +430,8 @@ public class EditStyles {
 	}
 
 	/**
-	 * ȡ״ͼб
-	 * @return ״ͼб
+	 * 获取柱状图下拉列表
+	 * @return 柱状图下拉列表
 	 */
 	public static JComboBoxEx getInputColumnTypeBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -460,8 +460,8 @@ public class EditStyles {
 	}
 
 	/**
-	 * ȡͼб
-	 * @return ͼб
+	 * 获取线形图下拉列表
+	 * @return 线形图下拉列表
 	 */
 	public static JComboBoxEx getInputLineTypeBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -480,8 +480,8 @@ public class EditStyles {
 	}
 
 	/**
-	 * ȡ״ͼб
-	 * @return ״ͼб
+	 * 获取饼状图下拉列表
+	 * @return 饼状图下拉列表
 	 */
 	public static JComboBoxEx getInputPieTypeBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -496,8 +496,8 @@ public class EditStyles {
 	}
 
 	/**
-	 * ȡ˫ͼб
-	 * @return ˫ͼб
+	 * 获取双轴图形下拉列表
+	 * @return 双轴图形下拉列表
 	 */
 	public static JComboBoxEx getInput2AxisTypeBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -7,7 +7,7 @@ import com.scudata.ide.common.*;
 import com.scudata.ide.common.swing.*;
 
 /**
- * ֺб
+ * 字号下拉列表
  * 
  * @author Joancy
  *
@@ -20,7 +20,7 @@ public class FontSizeBox extends JComboBoxEx {
 	private static final long serialVersionUID = -1624791389366744866L;
 
 	/**
-	 * ȱʡ캯
+	 * 缺省构造函数
 	 */
 	public FontSizeBox() {
 		Vector<Integer> code = new Vector<Integer>();
@@ -33,9 +33,9 @@ public class FontSizeBox extends JComboBoxEx {
 	}
 
 	/**
-	 * ʾֵȡֵ
-	 * @param dispItem ʾֵ
-	 * @return ֵ
+	 * 根据显示值获取代码值
+	 * @param dispItem 显示值
+	 * @return 代码值
 	 */
 	public Object x_getCodeItem( Object dispItem ) {
 		Object o = super.x_getCodeItem( dispItem );
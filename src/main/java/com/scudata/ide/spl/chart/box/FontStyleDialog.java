@@ -9,7 +9,7 @@ import com.scudata.ide.common.*;
 import com.scudata.ide.spl.resources.*;
 
 /**
- * ʽԻ
+ * 字体样式对话框
  * 
  * @author Joancy
  *
@@ -30,8 +30,8 @@ public class FontStyleDialog extends JDialog {
 	GridBagLayout gridBagLayout1 = new GridBagLayout();
 
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public FontStyleDialog( Dialog owner ) {
 		super( owner );
@@ -50,24 +50,24 @@ public class FontStyleDialog extends JDialog {
 	private void jbInit() throws Exception {
 		this.getContentPane().setLayout( gridBagLayout1 );
 		bold.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
-		bold.setText( ChartMessage.get().getMessage( "fontdialog.bold" ) );  //"" );
+		bold.setText( ChartMessage.get().getMessage( "fontdialog.bold" ) );  //"粗体" );
 		italic.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
-		italic.setText( ChartMessage.get().getMessage( "fontdialog.italic" ) );  //"б" );
+		italic.setText( ChartMessage.get().getMessage( "fontdialog.italic" ) );  //"斜体" );
 		underLine.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
 		underLine.setActionCommand( "" );
-		underLine.setText( ChartMessage.get().getMessage( "fontdialog.ul" ) );  //"»" );
+		underLine.setText( ChartMessage.get().getMessage( "fontdialog.ul" ) );  //"下划线" );
 		vertical.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
-		vertical.setActionCommand( ChartMessage.get().getMessage( "fontdialog.vert" ) );  //"" );
-		vertical.setText( ChartMessage.get().getMessage( "fontdialog.vert" ) );  //"" );
+		vertical.setActionCommand( ChartMessage.get().getMessage( "fontdialog.vert" ) );  //"竖排文字" );
+		vertical.setText( ChartMessage.get().getMessage( "fontdialog.vert" ) );  //"竖排文字" );
 		okbtn.setFont( new java.awt.Font( "Dialog", 0, 12 ) );
 		okbtn.setMargin( new Insets( 2, 10, 2, 10 ) );
-		okbtn.setText( ChartMessage.get().getMessage( "button.ok" ) );  //"ȷ(O)" );
+		okbtn.setText( ChartMessage.get().getMessage( "button.ok" ) );  //"确定(O)" );
 		okbtn.addActionListener( new java.awt.event.ActionListener() {
 			public void actionPerformed( ActionEvent e ) {
 				okbtn_actionPerformed( e );
 			}
 		} );
-		cancelbtn.setText( ChartMessage.get().getMessage( "button.cancel" ) );  //"ȡ(C)" );
+		cancelbtn.setText( ChartMessage.get().getMessage( "button.cancel" ) );  //"取消(C)" );
 		cancelbtn.addActionListener( new java.awt.event.ActionListener() {
 			public void actionPerformed( ActionEvent e ) {
 				cancelbtn_actionPerformed( e );
@@ -92,8 +92,8 @@ public class FontStyleDialog extends JDialog {
 	}
 
 	/**
-	 * ʽ
-	 * @param style ʽ
+	 * 设置字体样式
+	 * @param style 样式
 	 */
 	public void setFontStyle( int style ) {
 		this.style = style;
@@ -124,16 +124,16 @@ public class FontStyleDialog extends JDialog {
 	}
 
 	/**
-	 * ȡڶѡ
-	 * @return ѡ
+	 * 获取窗口动作选项
+	 * @return 选项
 	 */
 	public int getOption() {
 		return m_option;
 	}
 
 	/**
-	 * ȡʽ
-	 * @return ʽ
+	 * 获取字体样式
+	 * @return 字体样式
 	 */
 	public int getFontStyle() {
 		return style;
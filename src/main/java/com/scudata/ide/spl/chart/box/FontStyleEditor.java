@@ -9,7 +9,7 @@ import com.scudata.chart.*;
 import com.scudata.ide.spl.resources.*;
 
 /**
- * ʽ༭
+ * 字体样式编辑器
  * 
  * @author Joancy
  *
@@ -26,8 +26,8 @@ public class FontStyleEditor extends DefaultCellEditor {
 	private FontStyleIcon icon = new FontStyleIcon();
 
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public FontStyleEditor( Dialog owner ) {
 		super( new JCheckBox() );
@@ -55,7 +55,7 @@ public class FontStyleEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ʵָ󷽷
+	 * 实现父类抽象方法
 	 */
 	public Component getTableCellEditorComponent( JTable table, Object value,
 												  boolean isSelected, int row, int column ) {
@@ -71,14 +71,14 @@ public class FontStyleEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 获取编辑值
 	 */
 	public Object getCellEditorValue() {
 		return editingVal;
 	}
 
 	/**
-	 * ֹͣ༭
+	 * 停止编辑
 	 */
 	public boolean stopCellEditing() {
 		return super.stopCellEditing();
@@ -133,7 +133,7 @@ class FontStyleIcon implements Icon {
 
 	public void paintIcon( Component c, Graphics g, int x, int y ) {
 		g.setColor( Color.black );
-		String exam = ChartMessage.get().getMessage( "label.example" );    //ʾ
+		String exam = ChartMessage.get().getMessage( "label.example" );    //示例
 		if( Utils.isVertical( style ) ) {
 			Utils.drawText( (Graphics2D)g, exam, x + 15, y, Utils.getFont( "Dialog", style, 10 ), Color.black, style, 0, Consts.LOCATION_CT );
 		}
@@ -8,7 +8,7 @@ import com.scudata.chart.*;
 import com.scudata.ide.common.swing.*;
 
 /**
- * ֱ߷б
+ * 直线风格下拉列表
  * 
  * @author Joancy
  *
@@ -21,7 +21,7 @@ public class LineStyleComboBox extends JComboBox{
 	private static final long serialVersionUID = 4233172328821173300L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public LineStyleComboBox() {
 		super( new Object[] {
@@ -38,8 +38,8 @@ public class LineStyleComboBox extends JComboBox{
 	}
 
 	/**
-	 * ȡǰֵ
-	 * @return ߵķֵ
+	 * 获取当前值
+	 * @return 线的风格值
 	 */
 	public int getValue() {
 		return ( ( Integer ) getEditor().getItem() ).intValue();
@@ -145,7 +145,7 @@ class LineStyleIcon implements Icon {
 
 	public void paintIcon( Component c, Graphics g, int x, int y ) {
 		//none/dotted/dashed/solid/double
-		//ޣߡߡʵߡ˫ߡ㻮
+		//无，点线、虚线、实线、双线、点划线
 		float lineWidth = 1.2f;
 		if ( type == Consts.LINE_NONE ) {
 			lineWidth = .0f;
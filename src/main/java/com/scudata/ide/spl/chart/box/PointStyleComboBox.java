@@ -10,7 +10,7 @@ import com.scudata.chart.*;
 import com.scudata.ide.common.swing.*;
 
 /**
- * б
+ * 点的类型下拉列表
  * 
  * @author Joancy
  *
@@ -47,8 +47,8 @@ public class PointStyleComboBox extends JComboBox {
 	}
 
 	/**
-	 * ȡ
-	 * @return ͵ĵ
+	 * 获取点类型
+	 * @return 整数类型的点类型
 	 */
 	public int getValue() {
 		return ( ( Integer ) getEditor().getItem() ).intValue();
@@ -8,7 +8,7 @@ import com.scudata.chart.*;
 import com.scudata.ide.common.swing.*;
 
 /**
- * б
+ * 填充纹理下拉列表
  * 
  * @author Joancy
  *
@@ -45,8 +45,8 @@ public class TextureComboBox extends JComboBox {
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取纹理类型
+	 * @return 类型
 	 */
 	public int getValue() {
 		return ( ( Integer ) getEditor().getItem() ).intValue();
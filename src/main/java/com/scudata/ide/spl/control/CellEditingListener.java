@@ -20,25 +20,25 @@ import com.scudata.ide.spl.SPL;
 import com.scudata.ide.spl.SheetSpl;
 
 /**
- * ༭ʱڵǰԪýʱļ̼
+ * 编辑时，在当前单元格获得焦点时的键盘监听器类
  */
 public class CellEditingListener implements KeyListener {
-	/** ༭ؼ */
+	/** 编辑控件 */
 	protected SplControl control;
 
-	/**  */
+	/** 内容面板 */
 	protected ContentPanel cp;
 
 	/**
-	 * ǷCTRL
+	 * 是否按下CTRL键
 	 */
 	protected boolean isCtrlDown = false;
 
 	/**
-	 * 캯
+	 * 监听器构造函数
 	 * 
-	 * @param control ༭ؼ
-	 * @param panel   
+	 * @param control 编辑控件
+	 * @param panel   内容面板
 	 */
 	public CellEditingListener(SplControl control, ContentPanel panel) {
 		this.control = control;
@@ -46,9 +46,9 @@ public class CellEditingListener implements KeyListener {
 	}
 
 	/**
-	 * ͷʱ༭ı
+	 * 键被释放时，向编辑器发送新输入的文本
 	 * 
-	 * @param e ¼
+	 * @param e 键盘事件
 	 */
 	public void keyReleased(KeyEvent e) {
 		if (e.getKeyCode() == KeyEvent.VK_CONTROL) {
@@ -57,16 +57,16 @@ public class CellEditingListener implements KeyListener {
 	}
 
 	/**
-	 * ʱĴµ¼سCtrl+ҼӦı䵱ǰԪ
+	 * 键被按下时的处理函数，如果按下的是上下键、回车键或Ctrl+左右键，相应改变当前单元格
 	 * 
-	 * @param e ¼
+	 * @param e 键盘事件
 	 */
 	public void keyPressed(KeyEvent e) {
 		int key = e.getKeyCode();
 		boolean isMatching = isMatching();
 		switch (key) {
 		case KeyEvent.VK_ENTER:
-			if (!GV.isCellEditing) {// Թ
+			if (!GV.isCellEditing) {// 来自工具栏命令
 				stopMatch();
 				return;
 			}
@@ -87,7 +87,7 @@ public class CellEditingListener implements KeyListener {
 				}
 			} else if (e.isShiftDown()) {
 				stopMatch();
-				// ݡִУǷʵʸĶʾԶסƶ
+				// 接受内容、执行（不论是否有实质改动）、显示结果并自动钉住、不移动光标
 				((SheetSpl) GVSpl.appSheet).calcActiveCell();
 				break;
 			} else {
@@ -162,7 +162,7 @@ public class CellEditingListener implements KeyListener {
 				}
 				control.scrollToArea(control.toLeftCell());
 			} else if (e.isControlDown()) {
-				// CTRL-TABͳлǰSHEETEXCEL
+				// CTRL-TAB解释成切换当前活动SHEET（参照EXCEL）
 				if (isMatching) {
 					stopMatch();
 				}
@@ -280,13 +280,13 @@ public class CellEditingListener implements KeyListener {
 	}
 
 	/**
-	 * ̰¼
+	 * 键盘按下事件
 	 */
 	public void keyTyped(KeyEvent e) {
 	}
 
 	/**
-	 * ȡԴ
+	 * 取源组件
 	 * 
 	 * @param e
 	 * @return
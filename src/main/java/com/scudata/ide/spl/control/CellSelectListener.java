@@ -34,71 +34,71 @@ import com.scudata.ide.spl.SPL;
 import com.scudata.ide.spl.SheetSpl;
 
 /**
- * Ԫѡ
+ * 单元格选择监听器
  *
  */
 public class CellSelectListener implements MouseMotionListener, MouseListener,
 		KeyListener {
-	/** ༭ؼ */
+	/** 编辑控件 */
 	private SplControl control;
 
-	/**  */
+	/** 内容面板 */
 	private ContentPanel cp;
 
 	/**
-	 * ǷԱ༭
+	 * 是否可以编辑
 	 */
 	private boolean editable = true;
 
-	/**  */
+	/** 方向键向上 */
 	private final byte NEXT_TOP = 1;
-	/**  */
+	/** 方向键向下 */
 	private final byte NEXT_BOTTOM = 2;
-	/**  */
+	/** 方向键向左 */
 	private final byte NEXT_LEFT = 3;
-	/**  */
+	/** 方向键向右 */
 	private final byte NEXT_RIGHT = 4;
 
-	/** ק */
+	/** 拖拽向上 */
 	private final byte FORWARD_UP = 0x1;
-	/** ק */
+	/** 拖拽向下 */
 	private final byte FORWARD_DOWN = 0x2;
-	/** ק */
+	/** 拖拽向左 */
 	private final byte FORWARD_LEFT = 0x4;
-	/** ק */
+	/** 拖拽向右 */
 	private final byte FORWARD_RIGHT = 0x8;
 
 	/**
-	 * קĶʱ
+	 * 拖拽的定时器
 	 */
 	private javax.swing.Timer dragTimer = null;
 
 	/**
-	 * кźк
+	 * 行号和列号
 	 */
 	private int row = 0, col = 0;
 
 	/**
-	 * ק
+	 * 拖拽方向
 	 */
 	private byte forward = 0;
 
 	/**
-	 * 캯
+	 * 监听器构造函数
 	 * 
-	 * @param control ༭ؼ
-	 * @param panel   
+	 * @param control 编辑控件
+	 * @param panel   内容面板
 	 */
 	public CellSelectListener(SplControl control, ContentPanel panel) {
 		this(control, panel, true);
 	}
 
 	/**
-	 * 캯
+	 * 监听器构造函数
 	 * 
-	 * @param control  ༭ؼ
-	 * @param panel    
-	 * @param editable ǷԱ༭
+	 * @param control  编辑控件
+	 * @param panel    内容面板
+	 * @param editable 是否可以编辑
 	 */
 	public CellSelectListener(SplControl control, ContentPanel panel,
 			boolean editable) {
@@ -108,15 +108,15 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ¼
+	 * 鼠标进入事件
 	 */
 	public void mouseEntered(MouseEvent e) {
 	}
 
 	/**
-	 * 갴ʱĴλõĵԪΪǰ
+	 * 鼠标按下时的处理，将鼠标位置的单元格设为当前格
 	 * 
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mousePressed(MouseEvent e) {
 		if (dragTimer != null) {
@@ -210,13 +210,13 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 				showPopup(me);
 			}
 		};
-		SwingUtilities.invokeLater(t); // ӳٵ˵ڿؼбס
+		SwingUtilities.invokeLater(t); // 延迟弹出，避免菜单在控件中被挡住
 	}
 
 	/**
-	 * ͷʱĴ༭͵Ԫѡ¼
+	 * 鼠标释放时的处理，向编辑器发送单元格被选择事件
 	 * 
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mouseReleased(MouseEvent e) {
 		if (dragTimer != null) {
@@ -239,7 +239,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 		int col = pos.getCol();
 		setCursor(control.cellSet.getCell(row, col));
 
-		control.fireRegionSelect(false); // 2ˢ
+		control.fireRegionSelect(false); // 触发2次刷新
 		control.status = GCSpl.STATUS_NORMAL;
 
 		final MouseEvent me = e;
@@ -248,13 +248,13 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 				showPopup(me);
 			}
 		};
-		SwingUtilities.invokeLater(t); // ӳٵ˵ڿؼбס
+		SwingUtilities.invokeLater(t); // 延迟弹出，避免菜单在控件中被挡住
 	}
 
 	/**
-	 * ˫ʱĴ˫ĵԪͳͼ򵯳ͳͼԱ༭
+	 * 对鼠标双击时的处理，如果被双击的单元格是统计图，则弹出统计图属性编辑窗口
 	 * 
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mouseClicked(MouseEvent e) {
 		if (e.getClickCount() == 2 && e.getButton() == MouseEvent.BUTTON1) {
@@ -264,15 +264,15 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ˳¼
+	 * 鼠标退出事件
 	 */
 	public void mouseExited(MouseEvent e) {
 	}
 
 	/**
-	 * סƶʱĴݰʱλú͵ǰƶλãԪѡ
+	 * 按住鼠标左键移动鼠标时的处理，根据按下时的位置和当前移动的位置，画单元格选择框
 	 * 
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mouseDragged(MouseEvent e) {
 		if (dragTimer != null) {
@@ -286,7 +286,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ƶ¼
+	 * 鼠标移动事件
 	 */
 	public void mouseMoved(MouseEvent e) {
 		CellLocation pos = ControlUtils.lookupCellPosition(e.getX(), e.getY(),
@@ -313,7 +313,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ƶ
+	 * 光标移动
 	 * 
 	 * @param e
 	 */
@@ -339,7 +339,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ʼק
+	 * 开始拖拽
 	 * 
 	 * @param x
 	 * @param y
@@ -351,7 +351,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 		CellSetParser parser = new CellSetParser(control.cellSet);
 		if (y < cp.cellY[cp.drawStartRow][cp.drawStartCol]) { // up
 			row = cp.drawStartRow;
-			for (int r = cp.drawStartRow - 1; r >= 1; r--) { // һ
+			for (int r = cp.drawStartRow - 1; r >= 1; r--) { // 第一个非隐藏行
 				if (parser.isRowVisible(r)) {
 					row = r;
 					break;
@@ -363,7 +363,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 				+ cp.cellH[cp.drawEndRow][cp.drawStartCol]) { // down
 			int count = control.cellSet.getRowCount();
 			row = cp.drawEndRow;
-			for (int r = cp.drawEndRow + 1; r <= count; r++) { // һ
+			for (int r = cp.drawEndRow + 1; r <= count; r++) { // 第一个非隐藏行
 				if (parser.isRowVisible(r)) {
 					row = r;
 					break;
@@ -373,7 +373,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 		}
 		if (x < cp.cellX[cp.drawStartRow][cp.drawStartCol]) { // left
 			col = cp.drawStartCol;
-			for (int c = cp.drawStartCol - 1; c >= 1; c--) { // һ
+			for (int c = cp.drawStartCol - 1; c >= 1; c--) { // 第一个非隐藏行
 				if (parser.isColVisible(c)) {
 					col = c;
 					break;
@@ -385,7 +385,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 				+ cp.cellW[cp.drawStartRow][cp.drawEndCol]) { // right
 			int count = control.cellSet.getColCount();
 			col = cp.drawEndCol;
-			for (int c = cp.drawEndCol + 1; c <= count; c++) { // һ
+			for (int c = cp.drawEndCol + 1; c <= count; c++) { // 第一个非隐藏行
 				if (parser.isColVisible(c)) {
 					col = c;
 					break;
@@ -453,10 +453,10 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ָλ
+	 * 滚动到指定位置
 	 * 
-	 * @param row к
-	 * @param col к
+	 * @param row 行号
+	 * @param col 列号
 	 */
 	private void scrollToArea(int row, int col) {
 		control.status = GC.STATUS_SELECTING;
@@ -474,7 +474,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * 뿪
+	 * 按键离开
 	 */
 	public void keyReleased(KeyEvent e) {
 		if (e.getKeyCode() == KeyEvent.VK_CONTROL) {
@@ -483,9 +483,9 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ѡԪδýʱ̱µĴ µǷӦı䵱ǰԪ
+	 * 被选单元格未获得焦点时，键盘被按下的处理 若按下的是方向键，相应改变当前激活单元格
 	 * 
-	 * @param e ¼
+	 * @param e 键盘事件
 	 */
 	public void keyPressed(KeyEvent e) {
 		if (!editable) {
@@ -540,7 +540,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 				} else {
 					if (curRow == ics.getRowCount()) {
 						editor.appendRows(1);
-					} else { // 涼
+					} else { // 后面都是隐藏行
 						boolean allHide = true;
 						for (int r = curRow + 1; r <= ics.getRowCount(); r++) {
 							if (parser.isRowVisible(r)) {
@@ -750,7 +750,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 			}
 		}
 			break;
-		case KeyEvent.VK_UP: // 
+		case KeyEvent.VK_UP: // 上
 			if (e.isShiftDown()) {
 				CellLocation tarPos = null;
 				if (e.isControlDown()) {
@@ -774,7 +774,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 				control.scrollToArea(control.toUpCell());
 			}
 			break;
-		case KeyEvent.VK_DOWN: // 
+		case KeyEvent.VK_DOWN: // 下
 			if (e.isShiftDown()) {
 				CellLocation tarPos = null;
 				if (e.isControlDown()) {
@@ -798,7 +798,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 				control.scrollToArea(control.toDownCell());
 			}
 			break;
-		case KeyEvent.VK_LEFT: // 
+		case KeyEvent.VK_LEFT: // 左
 			if (e.isShiftDown()) {
 				CellLocation tarPos = null;
 				if (e.isControlDown()) {
@@ -822,7 +822,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 				control.scrollToArea(control.toLeftCell());
 			}
 			break;
-		case KeyEvent.VK_RIGHT: // 
+		case KeyEvent.VK_RIGHT: // 右
 			if (e.isShiftDown()) {
 				CellLocation tarPos = null;
 				if (e.isControlDown()) {
@@ -868,7 +868,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 			if (e.isShiftDown()) {
 				control.scrollToArea(control.toLeftCell());
 			} else if (e.isControlDown()) {
-				// CTRL-TABͳлǰSHEETEXCEL
+				// CTRL-TAB解释成切换当前活动SHEET（参照EXCEL）
 				((SPL) GVSpl.appFrame).showNextSheet(isCtrlDown);
 				isCtrlDown = true;
 			} else {
@@ -879,7 +879,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 			}
 			break;
 		case KeyEvent.VK_ESCAPE:
-			// ڵǰڲѡ
+			// 在当前窗口才清除选择框
 			control.resetCellSelection(null);
 			break;
 		case KeyEvent.VK_I:
@@ -942,12 +942,12 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ǷCTRL
+	 * 是否按下了CTRL键
 	 */
 	private boolean isCtrlDown = false;
 
 	/**
-	 * ù
+	 * 设置光标
 	 * 
 	 * @param cell
 	 */
@@ -967,14 +967,14 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * connnectRowӵһеupColλ
+	 * 将connnectRow连接到上一行的upCol位置
 	 * 
 	 * @param connectRow int
 	 * @param upCol      int
 	 */
 	private void connectRowUpTo(int connectRow, int upCol) {
 		int usedCols = getUsedCols(connectRow);
-		if (usedCols == 0) { // Ctrl-BackSpaceҵ
+		if (usedCols == 0) { // Ctrl-BackSpace光标乱的问题
 			usedCols = 1;
 		}
 		CellRect srcRect = new CellRect(connectRow, (int) 1, 1, usedCols);
@@ -995,7 +995,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ҵǰеĵһвΪյĸӵкţ Homeл
+	 * 找到当前行的第一列不为空的格子的列号， 用于Home键切换
 	 * 
 	 * @param row int
 	 * @return int
@@ -1008,11 +1008,11 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 				return c;
 			}
 		}
-		return 1; // ȫΪ򷵻ص1
+		return 1; // 全行为空则返回第1列
 	}
 
 	/**
-	 * ҵǰһȵĸ Ctrl+ʱı༭
+	 * 找当前方向的下一个方向跨度的格子坐标 用于Ctrl+方向时的编辑
 	 * 
 	 * @param pos       CellPosition
 	 * @param direction byte
@@ -1026,7 +1026,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 		int newr = row;
 		int newc = col;
 		NormalCell nc;
-		// ҵһдĸ
+		// 找到下一个有串的格子
 		switch (direction) {
 		case NEXT_TOP:
 			newr = 1;
@@ -1082,7 +1082,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ȡǰռõ Ctrl-BackSpace
+	 * 获取当前行所占用的列数 用于Ctrl-BackSpace
 	 * 
 	 * @param row int
 	 * @return int
@@ -1094,7 +1094,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * õβĿհ׸ӵ Ctrl-BackSpace
+	 * 得到行尾的空白格子的列数 用于Ctrl-BackSpace
 	 * 
 	 * @param row int
 	 * @return int
@@ -1112,7 +1112,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ȡʹõǿհУ
+	 * 取所有使用的行数（非空白行）
 	 * 
 	 * @param col
 	 * @return
@@ -1124,7 +1124,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ȡпհ
+	 * 取所有空白行数
 	 * 
 	 * @param col
 	 * @return
@@ -1142,10 +1142,10 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ƶ
+	 * 移动矩形区域
 	 * 
-	 * @param srcRect Դ
-	 * @param tarRect Ŀ
+	 * @param srcRect 源矩形区域
+	 * @param tarRect 目标矩形区域
 	 * @return
 	 */
 	private boolean moveRect(CellRect srcRect, CellRect tarRect) {
@@ -1153,11 +1153,11 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ƶ
+	 * 移动矩形区域
 	 * 
-	 * @param srcRect        Դ
-	 * @param tarRect        Ŀ
-	 * @param scrollToTarget ǷĿ
+	 * @param srcRect        源矩形区域
+	 * @param tarRect        目标矩形区域
+	 * @param scrollToTarget 是否滚动到目标区域
 	 * @return
 	 */
 	public boolean moveRect(CellRect srcRect, CellRect tarRect,
@@ -1176,9 +1176,9 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * ѡԪδýʱ̱Ĵ ûм뷨򽫱ַΪǰԪֵʹǰԪý
+	 * 被选单元格未获得焦点时，键盘被击打的处理 如果没有激活输入法，则将被击打的字符作为当前单元格的值，并使当前单元格获得焦点
 	 * 
-	 * @param e ¼
+	 * @param e 键盘事件
 	 */
 	public void keyTyped(KeyEvent e) {
 		if (!editable) {
@@ -1209,7 +1209,7 @@ public class CellSelectListener implements MouseMotionListener, MouseListener,
 	}
 
 	/**
-	 * Ҽ˵
+	 * 右键弹出菜单
 	 * 
 	 * @param e
 	 */
@@ -14,25 +14,25 @@ import com.scudata.ide.common.ConfigOptions;
 import com.scudata.ide.common.GC;
 
 /**
- * 
+ * 网格分析器
  *
  */
 public class CellSetParser {
 	/**
-	 * ո
+	 * 空格子
 	 */
 	private static NormalCell blankCell;
 
 	/**
-	 * 
+	 * 网格对象
 	 */
 	private CellSet cellSet;
 
 	/**
-	 * 
+	 * 分析器构造器
 	 * 
 	 * @param cellSet
-	 *            
+	 *            网格对象
 	 */
 	public CellSetParser(CellSet cellSet) {
 		this.cellSet = cellSet;
@@ -40,7 +40,7 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡ
+	 * 取网格对象
 	 * 
 	 * @return
 	 */
@@ -49,12 +49,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪ
+	 * 取单元格对象
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public NormalCell getCell(int row, int col) {
@@ -62,14 +62,14 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪ
+	 * 取单元格对象
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @param create
-	 *            ָԪΪnullʱǷ񴴽
+	 *            指定单元格为null时是否创建格子
 	 * @return
 	 */
 	public NormalCell getCell(int row, int col, boolean create) {
@@ -85,38 +85,38 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪļ
+	 * 取单元格的间隔
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public int getCellIndent(int row, int col) {
 		return ConfigOptions.iIndent.intValue();
 	}
 
-	/** ע͸߿ */
+	/** 注释格或者块 */
 	public static final byte TYPE_NOTE = 1;
-	/** ִи߿ */
+	/** 计算和执行格或者块 */
 	public static final byte TYPE_CALC = 2;
-	/**  */
+	/** 常数格 */
 	public static final byte TYPE_CONST = 3;
-	/** ֵ */
+	/** 无值常数格 */
 	public static final byte TYPE_CONST_NULL = 4;
-	/** ʽ */
+	/** 表达式 */
 	public static final byte TYPE_EXP = 5;
-	/** ֵʽ */
+	/** 无值表达式 */
 	public static final byte TYPE_EXP_NULL = 6;
 
 	/**
-	 * ȡԪ
+	 * 取单元格类型
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public byte getCellDispType(int row, int col) {
@@ -134,7 +134,7 @@ public class CellSetParser {
 			dispType = TYPE_CALC;
 			break;
 		}
-		// ӵһпʼϲңҲҲһֱcol-1
+		// 从第一列开始向上查找，找不到向右查找一直到col-1列
 		int topRow = 1;
 		NormalCell temp;
 		for (int c = 1; c < col; c++) {
@@ -156,23 +156,23 @@ public class CellSetParser {
 				}
 			}
 		}
-		if (cell.getType() == NormalCell.TYPE_CONST_CELL) { // 
+		if (cell.getType() == NormalCell.TYPE_CONST_CELL) { // 常量格
 			if (isSubCell(row, col)) {
 				return TYPE_CONST_NULL;
 			}
-			if (dispType != TYPE_CALC) { // ִиڼִп,ʽʾ Ҳ
+			if (dispType != TYPE_CALC) { // 计算格执行格、在计算块执行块中,按表达式格显示 并且不是续格
 				return TYPE_CONST;
 			}
 		}
-		if (cell.getValue() != null) { // ֵʽ
+		if (cell.getValue() != null) { // 有值表达式
 			return TYPE_EXP;
-		} else { // ֵʽ
+		} else { // 无值表达式
 			return TYPE_EXP_NULL;
 		}
 	}
 
 	/**
-	 * ȡеԪʾ
+	 * 取网格所有单元格的显示类型
 	 * @param cellSet
 	 * @return
 	 */
@@ -191,12 +191,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ǷӸ
+	 * 是否子格
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	private boolean isSubCell(int row, int col) {
@@ -234,7 +234,7 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ʽǷӸ
+	 * 表达式是否子格串
 	 * 
 	 * @param expStr
 	 * @return
@@ -248,12 +248,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪ񱳾ɫ
+	 * 取单元格背景色
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public Color getBackColor(int row, int col) {
@@ -261,12 +261,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪǰɫ
+	 * 取单元格前景色
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public Color getForeColor(int row, int col) {
@@ -274,19 +274,19 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪͶӦɫ
+	 * 取单元格类型对应的颜色
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @param isGetForeground
-	 *            Ƿȡǰɫtrueǰɫfalseɫ
+	 *            是否取前景色。true前景色，false背景色
 	 * @return
 	 */
 	protected Color getCellTypeColor(int row, int col, boolean isGetForeground) {
 		byte type = getCellDispType(row, col);
-		if (type == TYPE_NOTE) { // ע͸עͿ
+		if (type == TYPE_NOTE) { // 注释格或者在注释块中
 			return isGetForeground ? ConfigOptions.iNoteFColor
 					: ConfigOptions.iNoteBColor;
 		}
@@ -294,26 +294,26 @@ public class CellSetParser {
 			return isGetForeground ? ConfigOptions.iNValueFColor
 					: ConfigOptions.iNValueBColor;
 		}
-		if (type == TYPE_CONST) { // ִиڼִп,ʽʾ Ҳ
+		if (type == TYPE_CONST) { // 计算格执行格、在计算块执行块中,按表达式格显示 并且不是续格
 			return isGetForeground ? ConfigOptions.iConstFColor
 					: ConfigOptions.iConstBColor;
 		}
-		if (type == TYPE_EXP) { // ֵʽ
+		if (type == TYPE_EXP) { // 有值表达式
 			return isGetForeground ? ConfigOptions.iValueFColor
 					: ConfigOptions.iValueBColor;
-		} else { // ֵʽ
+		} else { // 无值表达式
 			return isGetForeground ? ConfigOptions.iNValueFColor
 					: ConfigOptions.iNValueBColor;
 		}
 	}
 
 	/**
-	 * ȡԪʾı
+	 * 取单元格显示文本
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public String getDispText(int row, int col) {
@@ -324,12 +324,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪ
+	 * 取单元格字体
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public Font getFont(int row, int col) {
@@ -337,12 +337,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪ
+	 * 取单元格字体名称
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public String getFontName(int row, int col) {
@@ -350,12 +350,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪС
+	 * 取单元格字体大小
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public int getFontSize(int row, int col) {
@@ -363,12 +363,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪʾʽ
+	 * 取单元格显示格式
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public String getFormat(int row, int col) {
@@ -376,12 +376,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡԪˮƽ
+	 * 取单元格水平对齐
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public byte getHAlign(int row, int col) {
@@ -389,12 +389,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡֱ
+	 * 取垂直对齐
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public byte getVAlign(int row, int col) {
@@ -402,12 +402,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ԪǷӴ
+	 * 单元格是否加粗
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public boolean isBold(int row, int col) {
@@ -415,12 +415,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ԪǷб
+	 * 单元格是否斜体
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public boolean isItalic(int row, int col) {
@@ -428,12 +428,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ԪǷ»
+	 * 单元格是否下划线
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public boolean isUnderline(int row, int col) {
@@ -441,7 +441,7 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡ
+	 * 取行数
 	 * 
 	 * @return
 	 */
@@ -450,12 +450,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡи
+	 * 取行高
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param scale
-	 *            ʾ
+	 *            显示比例
 	 * @return
 	 */
 	public int getRowHeight(int row, float scale) {
@@ -469,21 +469,21 @@ public class CellSetParser {
 	}
 
 	/**
-	 * 
+	 * 获得总列数
 	 * 
-	 * @return 
+	 * @return 总列数
 	 */
 	public int getColCount() {
 		return cellSet.getColCount();
 	}
 
 	/**
-	 * ȡп
+	 * 取列宽
 	 * 
 	 * @param col
-	 *            к
+	 *            列号
 	 * @param scale
-	 *            ʾ
+	 *            显示比例
 	 * @return
 	 */
 	public int getColWidth(int col, float scale) {
@@ -497,10 +497,10 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡпз0
+	 * 取列宽，不可视列返回0
 	 * 
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public int getColWidth(int col) {
@@ -518,10 +518,10 @@ public class CellSetParser {
 	}
 
 	/**
-	 * Ƿ
+	 * 行是否可视
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @return
 	 */
 	public boolean isRowVisible(int row) {
@@ -530,10 +530,10 @@ public class CellSetParser {
 	}
 
 	/**
-	 * Ƿ
+	 * 列是否可视
 	 * 
 	 * @param col
-	 *            к
+	 *            列号
 	 * @return
 	 */
 	public boolean isColVisible(int col) {
@@ -542,7 +542,7 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡиߣз0
+	 * 取行高，不可视行返回0
 	 * 
 	 * @param row
 	 * @return
@@ -556,16 +556,16 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡп
+	 * 取多列宽度
 	 * 
 	 * @param control
-	 *            ؼ
+	 *            网格控件
 	 * @param startCol
-	 *            ʼ
+	 *            开始列
 	 * @param count
-	 *            
+	 *            列数
 	 * @param includeHideCol
-	 *            Ƿп
+	 *            是否包含隐藏列宽
 	 * @return
 	 */
 	public int getColsWidth(SplControl control, int startCol, int count,
@@ -582,16 +582,16 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡи߶
+	 * 取多行高度
 	 * 
 	 * @param control
-	 *            ؼ
+	 *            网格控件
 	 * @param startRow
-	 *            ʼ
+	 *            开始行
 	 * @param count
-	 *            
+	 *            行数
 	 * @param includeHideRow
-	 *            Ƿи
+	 *            是否包含隐藏行高
 	 * @return
 	 */
 	public int getRowsHeight(SplControl control, int startRow, int count,
@@ -608,7 +608,7 @@ public class CellSetParser {
 	}
 
 	/**
-	 * ȡеĽ
+	 * 取子行的结束行
 	 * 
 	 * @param row
 	 * @return
@@ -634,12 +634,12 @@ public class CellSetParser {
 	}
 
 	/**
-	 * Ƿ
+	 * 子行是否可视
 	 * 
 	 * @param row
-	 *            к
+	 *            行号
 	 * @param subEnd
-	 *            ĩ
+	 *            子行末行
 	 * @return
 	 */
 	public boolean isSubExpand(int row, int subEnd) {
@@ -19,54 +19,54 @@ import com.scudata.ide.common.control.ControlUtilsBase;
 import com.scudata.ide.spl.GCSpl;
 
 /**
- * бͷ
+ * 列表头监听器
  *
  */
 public class ColHeaderListener implements MouseMotionListener, MouseListener, KeyListener {
 	/**
-	 * ؼ
+	 * 网格控件
 	 */
 	private SplControl control;
 
-	/** ѡĿʼк */
+	/** 被选择的开始列号 */
 	private int startSelectedCol;
 
-	/** пıʱʼX */
+	/** 列宽改变时的起始X坐标 */
 	private int resizeStartX;
 
-	/** пıʱıк */
+	/** 列宽改变时的被拉伸列号 */
 	private int resizeStartCol;
 
-	/** пıǰԭʼ */
+	/** 列宽改变前的原始宽度 */
 	private float oldCellWidth;
 
-	/** пıеʱ */
+	/** 列宽改变过程中的临时宽度 */
 	private int tmpWidth;
 
 	/**
-	 * Ƿɱ༭
+	 * 是否可编辑
 	 */
 	private boolean editable = true;
 
 	/**
-	 * ǰ
+	 * 当前格
 	 */
 	private transient CellLocation activeCell = null;
 
 	/**
-	 * 캯
+	 * 监听器构造函数
 	 * 
-	 * @param control ؼ
+	 * @param control 网格控件
 	 */
 	public ColHeaderListener(SplControl control) {
 		this(control, true);
 	}
 
 	/**
-	 * 캯
+	 * 监听器构造函数
 	 *
-	 * @param control  ؼ
-	 * @param editable ǷԱ༭
+	 * @param control  网格控件
+	 * @param editable 是否可以编辑
 	 */
 	public ColHeaderListener(SplControl control, boolean editable) {
 		this.control = control;
@@ -74,15 +74,15 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ¼
+	 * 鼠标进入事件
 	 */
 	public void mouseEntered(MouseEvent e) {
 	}
 
 	/**
-	 * ʱĴ
+	 * 按下鼠标左键时的处理
 	 *
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mousePressed(MouseEvent e) {
 		if (!editable) {
@@ -105,7 +105,7 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 			}
 		}
 		if (e.getButton() == MouseEvent.BUTTON1 || !colIsSelected) {
-			// δѡе׸ҼʱȽѡ
+			// 在未选中的行首格按右键时先将其选中
 			if (control.status != GCSpl.STATUS_CELLRESIZE || e.getButton() != MouseEvent.BUTTON1) {
 				resizeStartCol = 0;
 				if (!e.isControlDown()) {
@@ -114,7 +114,7 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 				}
 				control.m_selectedRows.clear();
 
-				// ѧϰexcelѡ׸Ϊǰ
+				// 学习excel把选中区域的首格作为当前格
 				int firstRow = control.getContentPanel().drawStartRow;
 				if (firstRow < 1 || firstRow > control.cellSet.getRowCount())
 					firstRow = 1;
@@ -150,9 +150,9 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ͷʱĴ
+	 * 鼠标左键释放时的处理
 	 *
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mouseReleased(MouseEvent e) {
 		if (!editable) {
@@ -161,7 +161,7 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 		}
 		int x = e.getX();
 		int col = (int) ControlUtils.lookupHeaderIndex(x, control.cellX, control.cellW);
-		// קʱˢ¿ؼϲֻҪקˣͽֹ,⣬ק˻ɹûߵһ
+		// 拖拽时，刷新控件造成拖不动，只要被拖拽了，就禁止活动格,遗留问题，拖拽隐藏了活动格，造成光标没法走到下一格
 		if (activeCell != null && activeCell.getCol() == col) {
 			control.setActiveCell(activeCell, false);
 		}
@@ -199,14 +199,14 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 				showPopup(me);
 			}
 		};
-		SwingUtilities.invokeLater(t); // ӳٵ˵ڿؼбס
+		SwingUtilities.invokeLater(t); // 延迟弹出，避免菜单在控件中被挡住
 	}
 
 	/**
-	 * ¼
+	 * 鼠标点击事件
 	 */
 	public void mouseClicked(MouseEvent e) {
-		// ˫бĸߣԶпĹ
+		// 双击列标题的格线，触发自动调整列宽的功能
 		if (e.getButton() == MouseEvent.BUTTON1 && e.getClickCount() == 2) {
 			int x = e.getX();
 			int col = (int) ControlUtils.lookupHeaderIndex(x, control.cellX, control.cellW);
@@ -220,15 +220,15 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ˳¼
+	 * 鼠标退出事件
 	 */
 	public void mouseExited(MouseEvent e) {
 	}
 
 	/**
-	 * ϶ʱĴ
+	 * 按下鼠标左键并拖动鼠标时的处理
 	 *
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mouseDragged(MouseEvent e) {
 		if (!editable) {
@@ -245,7 +245,7 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 			if (start <= 0) { // wunan
 				return;
 			}
-			control.m_selectedCols.clear(); // קٷʱбѡ
+			control.m_selectedCols.clear(); // 拖拽多列再返回时，列被多选
 			for (int i = start; i <= end; i++) {
 				control.addSelectedCol(new Integer(i));
 			}
@@ -275,7 +275,7 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 					cc.setWidth(newWidth);
 				control.getColumnHeader().getView().repaint();
 
-				// ק̲ʵʱˢݣᵼֵwrapBuffer
+				// 拖拽过程不实时刷新内容，会导致文字的wrapBuffer急剧冗余
 				control.getViewport().getView().repaint();
 				ControlUtilsBase.clearWrapBuffer();
 			}
@@ -283,9 +283,9 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ƶʱĴ
+	 * 鼠标移动时的处理
 	 *
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mouseMoved(MouseEvent e) {
 		if (!editable) {
@@ -308,7 +308,7 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * Ҽ˵
+	 * 右键弹出菜单
 	 * 
 	 * @param e
 	 */
@@ -319,15 +319,15 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ̧¼
+	 * 按键抬起事件
 	 */
 	public void keyReleased(KeyEvent e) {
 	}
 
 	/**
-	 * ̱µĴ µshift+Ӧı䵱ǰѡе
+	 * 键盘被按下的处理 若按下的是shift+方向键，相应改变当前选中的列
 	 *
-	 * @param e ¼
+	 * @param e 键盘事件
 	 */
 	public void keyPressed(KeyEvent e) {
 		if (!editable) {
@@ -412,7 +412,7 @@ public class ColHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ¼
+	 * 按键按下事件
 	 */
 	public void keyTyped(KeyEvent e) {
 	}
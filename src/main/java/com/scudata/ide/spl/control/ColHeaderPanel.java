@@ -13,25 +13,25 @@ import com.scudata.ide.common.GC;
 import com.scudata.ide.spl.GCSpl;
 
 /**
- * бͷ
+ * 列表头面板
  *
  */
 public class ColHeaderPanel extends JPanel {
 	private static final long serialVersionUID = 1L;
 
-	/** ؼ */
+	/** 网格控件 */
 	private SplControl control;
 	/**
-	 * ǷԱ༭
+	 * 是否可以编辑
 	 */
 	private boolean editable = true;
 	/**
-	 * 
+	 * 网格解析器
 	 */
 	private CellSetParser parser;
 
 	/**
-	 * бͷ幹캯
+	 * 列表头面板构造函数
 	 * 
 	 * @param control
 	 */
@@ -40,9 +40,9 @@ public class ColHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * бͷ幹캯
+	 * 列表头面板构造函数
 	 * 
-	 * @param control ༭ؼ
+	 * @param control 编辑控件
 	 */
 	public ColHeaderPanel(SplControl control, boolean editable) {
 		this.control = control;
@@ -54,7 +54,7 @@ public class ColHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化坐标
 	 */
 	private void initCoords() {
 		int cols = control.cellSet.getColCount() + 1;
@@ -78,9 +78,9 @@ public class ColHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * бͷ
+	 * 绘制列表头
 	 * 
-	 * @param g еͼζ
+	 * @param g 面板中的图形对象
 	 */
 	public void paintComponent(Graphics g) {
 		int h = (int) (GCSpl.DEFAULT_ROW_HEIGHT * control.scale);
@@ -138,7 +138,7 @@ public class ColHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * ȡߴС
+	 * 取面板尺寸大小
 	 */
 	public Dimension getPreferredSize() {
 		int width = 0;
@@ -56,129 +56,129 @@ import com.scudata.ide.spl.GVSpl;
 import com.scudata.ide.spl.SheetSpl;
 import com.scudata.ide.spl.ToolBarProperty;
 
-/**  */
+/** 网格内容面板 */
 public class ContentPanel extends JPanel implements InputMethodListener,
 		InputMethodRequests {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ɫ
+	 * 异或颜色
 	 */
 	private static Color XOR_COLOR = new Color(51, 0, 51);
 
-	/**  */
+	/** 网格对象 */
 	CellSet cellSet;
 
-	/**  */
+	/** 网格分析器 */
 	private CellSetParser parser;
 
-	/** Ƶʼ */
+	/** 内容面板绘制的起始行 */
 	private int startRow;
 
-	/** ƵĽ */
+	/** 内容面板绘制的结束行 */
 	private int endRow;
 
-	/** Ƶʼ */
+	/** 内容面板绘制的起始列 */
 	private int startCol;
 
-	/** ƵĽ */
+	/** 内容面板绘制的结束列 */
 	private int endCol;
 
-	/** Ƿڱ༭״̬ */
+	/** 是否处于编辑状态 */
 	private boolean isEditing;
 
-	/** ǷֻʾڴСڵ */
+	/** 是否只画处于显示窗口大小内的内容 */
 	private boolean onlyDrawCellInWin;
 
-	/** Ƿɱ༭ */
+	/** 是否可编辑 */
 	private boolean editable;
 
-	/** Ĺ */
+	/** 容纳内容面板的滚动窗格 */
 	JScrollPane jsp;
 
-	/** ؼ */
+	/** 网格控件 */
 	protected SplControl control;
 
-	/** ԪX */
+	/** 单元格的X坐标数组 */
 	int[][] cellX;
 
-	/** ԪY */
+	/** 单元格的Y坐标数组 */
 	int[][] cellY;
 
-	/** ԪĿ */
+	/** 单元格的宽度数组 */
 	int[][] cellW;
 
-	/** Ԫĸ߶ */
+	/** 单元格的高度数组 */
 	int[][] cellH;
 
-	/** ͼʼСУͼС */
+	/** 绘图开始的行、列，绘图结束的行、列 */
 	public int drawStartRow, drawStartCol, drawEndRow, drawEndCol;
 
-	/** б༭ */
+	/** 多行编辑框 */
 	protected JTextPaneEx multiEditor;
 
-	/** ǰ༭ؼ */
+	/** 当前编辑控件 */
 	protected JComponent editor;
 
-	/** ÷ı䵱ǰԪʱ¼ĵǰк */
+	/** 用方向键改变当前单元格时，记录的当前光标行号 */
 	public int rememberedRow = 0;
 
-	/** ÷ı䵱ǰԪʱ¼ĵǰк */
+	/** 用方向键改变当前单元格时，记录的当前光标列号 */
 	public int rememberedCol = 0;
 
-	/** б༭ */
+	/** 多行编辑器类型 */
 	public static final int MULTI_EDITOR = 2;
 
 	/**
-	 * б༭Ĺ
+	 * 多行编辑器的滚动面板
 	 */
 	private JScrollPane spEditor;
 
 	/**
-	 * Ƿֹ仯
+	 * 是否阻止变化
 	 */
 	protected boolean preventChange = false;
 
 	/**
-	 * ߿ʽ
+	 * 边框样式
 	 */
 	private BorderStyle borderStyle = new BorderStyle();
 
-	/** ͼȾ߷4f */
+	/** 图形轮廓渲染器，虚线风格4f */
 	public static BasicStroke bs1 = new BasicStroke(2.0f, BasicStroke.CAP_BUTT,
 			BasicStroke.JOIN_MITER, 1f, new float[] { 4f }, 0f);
-	/** ͼȾ߷5f */
+	/** 图形轮廓渲染器，虚线风格5f */
 	public static BasicStroke bs2 = new BasicStroke(2.0f, BasicStroke.CAP_BUTT,
 			BasicStroke.JOIN_MITER, 1f, new float[] { 5f }, 0f);
 
 	/**
-	 * ͼȾ
+	 * 图形轮廓渲染器
 	 */
 	private BasicStroke bs = null;
 
 	/**
-	 * ڱ༭ĵԪ
+	 * 正在编辑的单元格坐标
 	 */
 	private CellLocation editPos = null;
 
 	/**
-	 * ڻԭ༭ı
+	 * 用于还原编辑文本
 	 */
 	private String undoExp = null;
 
 	protected SheetSpl sheet;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param cellSet           
-	 * @param startRow          ʼ
-	 * @param endRow            
-	 * @param startCol          ʼ
-	 * @param endCol            
-	 * @param isEditing         Ƿλڱ༭ؼ
-	 * @param onlyDrawCellInWin ǷֻʾڴСڵ
-	 * @param jsp               Ĺ
+	 * @param cellSet           网格对象
+	 * @param startRow          内容面板起始行
+	 * @param endRow            内容面板结束行
+	 * @param startCol          内容面板起始列
+	 * @param endCol            内容面板结束列
+	 * @param isEditing         面板是否位于编辑控件中
+	 * @param onlyDrawCellInWin 是否只画显示窗口大小内的面板
+	 * @param jsp               容纳面板的滚动窗格
 	 */
 	public ContentPanel(CellSet cellSet, int startRow, int endRow,
 			int startCol, int endCol, boolean isEditing,
@@ -188,17 +188,17 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param cellSet           
-	 * @param startRow          ʼ
-	 * @param endRow            
-	 * @param startCol          ʼ
-	 * @param endCol            
-	 * @param isEditing         Ƿλڱ༭ؼ
-	 * @param onlyDrawCellInWin ǷֻʾڴСڵ
-	 * @param jsp               Ĺ
-	 * @param sheet             ҳ
+	 * @param cellSet           网格对象
+	 * @param startRow          内容面板起始行
+	 * @param endRow            内容面板结束行
+	 * @param startCol          内容面板起始列
+	 * @param endCol            内容面板结束列
+	 * @param isEditing         面板是否位于编辑控件中
+	 * @param onlyDrawCellInWin 是否只画显示窗口大小内的面板
+	 * @param jsp               容纳面板的滚动窗格
+	 * @param sheet             页面对象
 	 */
 	public ContentPanel(CellSet cellSet, int startRow, int endRow,
 			int startCol, int endCol, boolean isEditing,
@@ -254,7 +254,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ༭ؼ
+	 * 创建编辑控件
 	 */
 	protected void newEditor() {
 		multiEditor = new JTextPaneEx() {
@@ -289,8 +289,8 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * 
-	 * @param cellSet  
+	 * 创建网格解析器
+	 * @param cellSet 网格 
 	 * @return CellSetParser
 	 */
 	protected CellSetParser newCellSetParser(CellSet cellSet) {
@@ -298,7 +298,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ༭
+	 * 设置网格编辑监听器
 	 * @return
 	 */
 	protected void addCellEditingListener(SplControl control,
@@ -308,7 +308,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ӱ༭ؼ¼
+	 * 增加编辑控件焦点事件
 	 * @param jtext
 	 */
 	protected void addEditorFocusListener(JTextComponent jtext) {
@@ -320,7 +320,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ǷԱ༭
+	 * 设置是否可以编辑
 	 * 
 	 * @param editable
 	 */
@@ -330,7 +330,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡǷԱ༭
+	 * 取是否可以编辑
 	 * 
 	 * @return
 	 */
@@ -339,9 +339,9 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * 
+	 * 设置网格对象
 	 * 
-	 * @param newCellSet 
+	 * @param newCellSet 网格对象
 	 */
 	public void setCellSet(CellSet newCellSet) {
 		this.cellSet = newCellSet;
@@ -350,7 +350,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡؼ
+	 * 取网格控件
 	 * 
 	 * @return
 	 */
@@ -359,19 +359,19 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ĳߴ
+	 * 获得面板的尺寸
 	 * 
-	 * @return ĳߴ
+	 * @return 面板的尺寸
 	 */
 	public Dimension getPreferredSize() {
-		/* Undoʱû¹endColʵпܲ */
+		/* Undo时没有重新构建面板造成endCol跟实际有可能不符 */
 		if (endCol > cellSet.getColCount()) {
 			endCol = cellSet.getColCount();
 		}
 		if (endRow > cellSet.getRowCount()) {
 			endRow = cellSet.getRowCount();
 		}
-		/* End */
+		/* 不符End */
 		int width = 0;
 		for (int col = startCol; col <= cellSet.getColCount(); col++) {
 			width += parser.getColWidth(col);
@@ -384,7 +384,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡкڶߵظ߶ȣڹλ
+	 * 获取行号相对于顶边的像素高度，用于滚动条定位
 	 * 
 	 * @param row int
 	 * @return int
@@ -398,7 +398,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡкߵظ߶ȣڹλ
+	 * 获取列号相对于左边的像素高度，用于滚动条定位
 	 * 
 	 * @param col
 	 * @return
@@ -412,9 +412,9 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * 
+	 * 绘制面板
 	 * 
-	 * @param g 
+	 * @param g 画布
 	 */
 	public void paintComponent(Graphics g) {
 		super.paintComponent(g);
@@ -543,7 +543,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 				if (isCellSelected(row, col)) {
 
 					/**
-					 * ĵԪ񱳾ɫ
+					 * 更改单元格背景色
 					 */
 					Color selectCellBkcolor;
 					if (ConfigOptions.getCellColor() != null) {
@@ -609,7 +609,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 		}
 
 		if (this.control != null && ConfigOptions.bDispOutCell.booleanValue()) {
-			// Ԫʾ֣ʹϲ
+			// 如果冲出单元格显示，则最后画文字，使得文字在最上层
 			for (int row = drawStartRow; row <= drawEndRow; row++) {
 				for (int col = drawStartCol; col <= drawEndCol; col++) {
 					if (cellX[row][col] == 0) {
@@ -638,7 +638,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 			}
 			Area a = control.getCopySourceArea();
 			int copyBeginRow = a.getBeginRow();
-			// ƵAreaпܳ滭
+			// 复制的Area有可能超出绘画面板
 			int copyEndRow = a.getEndRow();
 			int copyBeginCol = a.getBeginCol();
 			int copyEndCol = a.getEndCol();
@@ -684,8 +684,8 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 		}
 
 		/*
-		 * Ϊtrueػʱװؿؼıᵼ¹û falseװ
-		 * ػʱװؿؼı,ƺĳ뷨ʱ
+		 * 参数为true：即重画时装载控件文本会导致滚动没法操作 false：不装载则输入文字
+		 * 但重画时不装载控件文本,似乎某个情况下输入法输入文字时看不到
 		 */
 		initEditor(submitEditor(true));
 
@@ -697,10 +697,10 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ԪǷѡ
+	 * 单元格是否被选中
 	 * 
-	 * @param row к
-	 * @param col к
+	 * @param row 行号
+	 * @param col 列号
 	 * @return
 	 */
 	private boolean isCellSelected(int row, int col) {
@@ -727,7 +727,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ñ༭ı
+	 * 设置编辑框的文本
 	 * 
 	 * @param text
 	 */
@@ -742,7 +742,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ñ༭ı߽
+	 * 重置编辑框的边界
 	 */
 	protected void resetEditorBounds() {
 		if (editor == null || control == null
@@ -756,7 +756,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 		if (ConfigOptions.bDispOutCell.booleanValue()) {
 			int ew = getEditableWidth(editingText, r, c);
 			if (srcRect.width < ew) {
-				editingText += "a"; // ǰӸַ
+				editingText += "a"; // 提前加个字符宽度
 			}
 		}
 		CellRect rect = getEditorBounds(editingText, r, c);
@@ -772,7 +772,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 			if (w != srcRect.width || h != srcRect.height) {
 				spEditor.setSize(w, h);
 			}
-		} else { // ͬһС˱༭ñС
+		} else { // 同一个格子如果缩小了编辑框不用变小
 			if (w > srcRect.width || h > srcRect.height) {
 				if (w < srcRect.width)
 					w = srcRect.width;
@@ -784,10 +784,10 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ù
+	 * 设置光标
 	 * 
-	 * @param caretPosition λ
-	 * @param newText       ı
+	 * @param caretPosition 光标位置
+	 * @param newText       新文本
 	 */
 	private void setCaret(int caretPosition, String newText) {
 		int len = newText.length();
@@ -801,7 +801,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ͨcellvalueexpˢµEditorؼ ճʱ,ҲҪ˶
+	 * 通过程序设置了cell的value或exp，重新刷新到Editor控件 粘贴时,也要此动作
 	 */
 	public void reloadEditorText() {
 		CellLocation m_activeCell = control.getActiveCell();
@@ -820,10 +820,10 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡҪƵĿ
+	 * 取要绘制的宽度
 	 * 
-	 * @param cr к
-	 * @param cc к
+	 * @param cr 行号
+	 * @param cc 列号
 	 * @return
 	 */
 	public int getPaintableWidth(int cr, int cc) {
@@ -861,11 +861,11 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡҪ༭Ŀ
+	 * 取要编辑的宽度
 	 * 
-	 * @param editingText ༭ı
-	 * @param row         к
-	 * @param col         к
+	 * @param editingText 编辑文本
+	 * @param row         行号
+	 * @param col         列号
 	 * @return
 	 */
 	public int getEditableWidth(String editingText, int row, int col) {
@@ -888,17 +888,17 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡԱ༭ĸ߶
+	 * 取可以编辑的高度
 	 * 
-	 * @param text ı
-	 * @param row  к
-	 * @param col  к
-	 * @param maxW 
+	 * @param text 文本
+	 * @param row  行号
+	 * @param col  列号
+	 * @param maxW 最大宽度
 	 * @return
 	 */
 	private int getEditableHeight(String text, int row, int col, int maxW) {
 		int h = parser.getRowHeight(row);
-		// ༭ؼҪռ,5
+		// 编辑控件本身要占宽度,多留出5个点
 		float textH = ControlUtils.getStringHeight(text, maxW - 5, GC.font);
 		for (int r = row + 1; r <= cellSet.getRowCount(); r++) {
 			if (h > textH + 3) {
@@ -910,7 +910,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ѡı߿
+	 * 绘制选择区域的边框
 	 * 
 	 * @param g
 	 */
@@ -924,12 +924,12 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 		int endRow = area.getEndRow();
 		int endCol = area.getEndCol();
 		boolean drawTop = true;
-		if (row < drawStartRow && endRow >= drawStartRow) { // б
+		if (row < drawStartRow && endRow >= drawStartRow) { // 首行被隐藏
 			row = drawStartRow;
 			drawTop = false;
 		}
 		boolean drawLeft = true;
-		if (col < drawStartCol && endCol >= drawStartCol) { // б
+		if (col < drawStartCol && endCol >= drawStartCol) { // 首列被隐藏
 			col = drawStartCol;
 			drawLeft = false;
 		}
@@ -1012,14 +1012,14 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * Ԫ
+	 * 画单元格标记
 	 * 
-	 * @param g      
-	 * @param x      X
-	 * @param y      Y
-	 * @param parser 
-	 * @param row    к
-	 * @param col    к
+	 * @param g      画板
+	 * @param x      X坐标
+	 * @param y      Y坐标
+	 * @param parser 网格解析器
+	 * @param row    行号
+	 * @param col    列号
 	 */
 	public static void drawFlag(Graphics g, int x, int y, CellSetParser parser,
 			int row, int col) {
@@ -1052,7 +1052,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ʼӵ
+	 * 初始化格子的坐标
 	 */
 	public void initCellLocations() {
 		int rows = parser.getRowCount() + 1;
@@ -1061,10 +1061,10 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ʼӵ
+	 * 初始化格子的坐标
 	 * 
-	 * @param rows 
-	 * @param cols 
+	 * @param rows 行数
+	 * @param cols 列数
 	 */
 	public void initCellLocations(int rows, int cols) {
 		cellX = new int[rows][cols];
@@ -1074,16 +1074,16 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ƵԪʾı
+	 * 绘制单元格中显示的文本
 	 * 
-	 * @param g     
-	 * @param row   к
-	 * @param col   к
-	 * @param x     X
-	 * @param y     Y
-	 * @param w     
-	 * @param h     ߶
-	 * @param scale ʾ
+	 * @param g     画板
+	 * @param row   行号
+	 * @param col   列号
+	 * @param x     X坐标
+	 * @param y     Y坐标
+	 * @param w     宽度
+	 * @param h     高度
+	 * @param scale 显示比例
 	 */
 	private void drawText(Graphics g, int row, int col, int x, int y, int w,
 			int h, float scale) {
@@ -1092,17 +1092,17 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ƵԪʾı
+	 * 绘制单元格中显示的文本
 	 * 
-	 * @param text  ı
-	 * @param g     
-	 * @param row   к
-	 * @param col   к
-	 * @param x     X
-	 * @param y     Y
-	 * @param w     
-	 * @param h     ߶
-	 * @param scale ʾ
+	 * @param text  文本
+	 * @param g     画板
+	 * @param row   行号
+	 * @param col   列号
+	 * @param x     X坐标
+	 * @param y     Y坐标
+	 * @param w     宽度
+	 * @param h     高度
+	 * @param scale 显示比例
 	 */
 	private void drawText(String text, Graphics g, int row, int col, int x,
 			int y, int w, int h, float scale) {
@@ -1125,8 +1125,8 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 				if (rr == row && cc == col) {
 					c = Color.white;
 					/*
-					 * ǰɫΪɫʱԪʾ뱳ͬɫˣXORģʽʾ
-					 * finallyҪûpaintģʽ
+					 * 前景色为白色时，如果冲出单元格显示，与背景同色看不出来了，所以用XOR模式显示
+					 * 但是在最后finally要设置回paint模式
 					 */
 					g.setXORMode(XOR_COLOR);
 				}
@@ -1141,7 +1141,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * Ԫ͸߿
+	 * 将单元格坐标和高宽数组清零
 	 */
 	private void clearCoordinate() {
 		for (int i = 0; i < cellX.length; i++) {
@@ -1155,7 +1155,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡ༭
+	 * 取编辑框
 	 * 
 	 * @return
 	 */
@@ -1164,7 +1164,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * Ƿڱ༭
+	 * 是否正在编辑
 	 * 
 	 * @return
 	 */
@@ -1173,9 +1173,9 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ༭ı
+	 * 向编辑框中增加文本
 	 * 
-	 * @param text Ҫӵı
+	 * @param text 要增加的文本
 	 */
 	public void addText(String text) {
 		if (editor == null) {
@@ -1207,11 +1207,11 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ༭
+	 * 编辑器的鼠标点击
 	 * 
-	 * @param e   ¼
-	 * @param row к
-	 * @param col к
+	 * @param e   鼠标事件
+	 * @param row 行号
+	 * @param col 列号
 	 */
 	public void editorMousePressed(MouseEvent e, int row, int col) {
 		if (editor == null)
@@ -1243,24 +1243,24 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 		}
 	}
 
-	/** ˢı */
+	/** 刷新文本框 */
 	public static final byte MODE_PAINT = 0;
-	/** ʾı */
+	/** 显示文本框 */
 	public static final byte MODE_SHOW = 1;
-	/** ı */
+	/** 隐藏文本框 */
 	public static final byte MODE_HIDE = 2;
 
 	/**
-	 * ʼ༭
+	 * 初始化编辑框
 	 * 
-	 * @param caretPosition λ
+	 * @param caretPosition 光标位置
 	 */
 	private void initEditor(int caretPosition) {
 		initEditor(caretPosition, MODE_PAINT);
 	}
 
 	/**
-	 * ʼ༭
+	 * 初始化编辑框
 	 * 
 	 * @param mode MODE_PAINT,MODE_SHOW,MODE_HIDE
 	 */
@@ -1277,9 +1277,9 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ʼ༭
+	 * 初始化编辑框
 	 * 
-	 * @param caretPosition λ
+	 * @param caretPosition 光标位置
 	 * @param mode          MODE_PAINT,MODE_SHOW,MODE_HIDE
 	 */
 	public void initEditor(int caretPosition, byte mode) {
@@ -1311,7 +1311,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 			return;
 		}
 
-		// ´ֹƽʱǼҳ
+		// 如下代码阻止平铺时非激活的页面
 		Container container = this.getParent();
 		while (container != null) {
 			if (container instanceof JInternalFrame) {
@@ -1387,11 +1387,11 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡ༭ı߽
+	 * 取编辑框的边界
 	 * 
-	 * @param text ı
-	 * @param row  к
-	 * @param col  к
+	 * @param text 文本
+	 * @param row  行号
+	 * @param col  列号
 	 * @return
 	 */
 	public CellRect getEditorBounds(String text, int row, int col) {
@@ -1425,7 +1425,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ύǰ༭е,عλ
+	 * 提交当前编辑器中的内容,返回光标位置
 	 * 
 	 * @return
 	 */
@@ -1434,9 +1434,9 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ύǰ༭е,عλ
+	 * 提交当前编辑器中的内容,返回光标位置
 	 * 
-	 * @param isPaint Ƿˢ
+	 * @param isPaint 是否刷新
 	 * @return
 	 */
 	private int submitEditor(boolean isPaint) {
@@ -1459,7 +1459,7 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ԭ༭ı
+	 * 还原编辑框的文本
 	 */
 	public void undoEditor() {
 		String text = ((JTextComponent) editor).getText();
@@ -1483,26 +1483,26 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * 뷨
+	 * 获得输入法申请对象
 	 * 
-	 * @return 뷨
+	 * @return 输入法申请对象
 	 */
 	public InputMethodRequests getInputMethodRequests() {
 		return this;
 	}
 
 	/**
-	 * ȡʾ
+	 * 取工具提示的坐标
 	 */
 	public Point getToolTipLocation(MouseEvent e) {
 		return getTipPos(e.getX(), e.getY());
 	}
 
 	/**
-	 * ȡԪʾ
+	 * 取单元格提示的坐标
 	 * 
-	 * @param x1 X
-	 * @param y1 Y
+	 * @param x1 X坐标
+	 * @param y1 Y坐标
 	 * @return
 	 */
 	protected Point getTipPos(int x1, int y1) {
@@ -1544,9 +1544,9 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * 뷨ؼµıʱĴ
+	 * 从输入法控件中输入新的文本时的处理
 	 * 
-	 * @param event 뷨¼
+	 * @param event 输入法事件
 	 */
 	public void inputMethodTextChanged(InputMethodEvent event) {
 		try {
@@ -1575,34 +1575,34 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * λñ仯
+	 * 光标位置变化
 	 */
 	public void caretPositionChanged(InputMethodEvent event) {
 	}
 
 	/**
-	 * ȡıλ
+	 * 取文本的位置
 	 */
 	public Rectangle getTextLocation(TextHitInfo offset) {
 		return new Rectangle(0, 0);
 	}
 
 	/**
-	 * ȡλ
+	 * 取抵消的位置
 	 */
 	public TextHitInfo getLocationOffset(int x, int y) {
 		return null;
 	}
 
 	/**
-	 * ȡλ
+	 * 取插入坐标抵消的位置
 	 */
 	public int getInsertPositionOffset() {
 		return 0;
 	}
 
 	/**
-	 * ȡύı
+	 * 取提交的文本
 	 */
 	public AttributedCharacterIterator getCommittedText(int beginIndex,
 			int endIndex, Attribute[] attributes) {
@@ -1610,14 +1610,14 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡύıĳ
+	 * 取提交文本的长度
 	 */
 	public int getCommittedTextLength() {
 		return 0;
 	}
 
 	/**
-	 * ȡύı
+	 * 取消最后提交的文本
 	 */
 	public AttributedCharacterIterator cancelLatestCommittedText(
 			Attribute[] attributes) {
@@ -1625,14 +1625,14 @@ public class ContentPanel extends JPanel implements InputMethodListener,
 	}
 
 	/**
-	 * ȡѡı
+	 * 取选择的文本
 	 */
 	public AttributedCharacterIterator getSelectedText(Attribute[] attributes) {
 		return null;
 	}
 
 	/**
-	 * ر
+	 * 关闭
 	 */
 	public void dispose() {
 		cellSet = null;
@@ -12,15 +12,15 @@ import com.scudata.ide.common.ConfigOptions;
 import com.scudata.ide.common.control.ControlUtilsBase;
 
 /**
- * ؼ
+ * 控件工具类
  *
  */
 public class ControlUtils extends ControlUtilsBase {
 
 	/**
-	 * ؼضӦ༭
+	 * 根据网格控件返回对应的网格编辑器
 	 * 
-	 * @param control ؼ
+	 * @param control 网格控件
 	 * @return
 	 */
 	public static SplEditor extractSplEditor(SplControl control) {
@@ -32,18 +32,18 @@ public class ControlUtils extends ControlUtilsBase {
 	}
 
 	/**
-	 * жָԪǷλʾУڣ֮ʾ
+	 * 判断指定单元格是否位于显示窗口中，若不在，则将之滚动到显示窗口中
 	 * 
-	 * @param viewport ʾڶ
-	 * @param control  ؼ
-	 * @param row      Ԫк
-	 * @param col      Ԫк
-	 * @return Ԫλʾʱfalse֮ʾں󣬷true
+	 * @param viewport 显示窗口对象
+	 * @param control  网格控件
+	 * @param row      单元格所在行号
+	 * @param col      单元格所在列号
+	 * @return 单元格位于显示窗口中时，返回false，否则将之滚动到显示窗口后，返回true
 	 */
 	public static boolean scrollToVisible(JViewport viewport,
 			SplControl control, int row, int col) {
 		Rectangle fieldArea = new Rectangle();
-		// ÿߣΪcontrol.cellXֵûи
+		// 每次重算宽高，因为control.cellX等值可能没有更新
 		// fieldArea.x = control.cellX[col];
 		CellSetParser parser = new CellSetParser(control.cellSet);
 		// if (fieldArea.x == 0)
@@ -71,12 +71,12 @@ public class ControlUtils extends ControlUtilsBase {
 	}
 
 	/**
-	 * ҵԪλ
+	 * 根据坐标查找单元格位置
 	 * 
-	 * @param x     X
-	 * @param y     Y
-	 * @param panel 
-	 * @return Ԫλ
+	 * @param x     X坐标
+	 * @param y     Y坐标
+	 * @param panel 内容面板对象
+	 * @return 单元格位置
 	 */
 	public static CellLocation lookupCellPosition(int x, int y,
 			ContentPanel panel) {
@@ -94,19 +94,19 @@ public class ControlUtils extends ControlUtilsBase {
 	}
 
 	/**
-	 * ı
+	 * 绘制文本
 	 * 
-	 * @param g         
-	 * @param text      ı
-	 * @param x         X
-	 * @param y         Y
-	 * @param w         
-	 * @param h         ߶
-	 * @param underLine Ƿ»
-	 * @param halign    ˮƽ
-	 * @param valign    ֱ
-	 * @param font      
-	 * @param c         ǰɫ
+	 * @param g         画板
+	 * @param text      文本
+	 * @param x         X坐标
+	 * @param y         Y坐标
+	 * @param w         宽度
+	 * @param h         高度
+	 * @param underLine 是否有下划线
+	 * @param halign    水平对齐
+	 * @param valign    垂直对齐
+	 * @param font      字体
+	 * @param c         前景色
 	 */
 	public static void drawText(Graphics g, String text, int x, int y, int w,
 			int h, boolean underLine, byte halign, byte valign, Font font,
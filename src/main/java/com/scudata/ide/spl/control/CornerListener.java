@@ -7,35 +7,35 @@ import com.scudata.ide.common.GC;
 
 /**
  * 
- * ļ
+ * 角落面板的监听器
  */
 public class CornerListener implements MouseListener {
 	/**
-	 * ؼ
+	 * 网格控件
 	 */
 	private SplControl control;
 	/**
-	 * ǷԱ༭
+	 * 是否可以编辑
 	 */
 	private boolean editable = true;
 
 	/**
-	 * 캯
+	 * 监听器构造函数
 	 * 
 	 * @param control
-	 *            ؼ
+	 *            网格控件
 	 */
 	public CornerListener(SplControl control) {
 		this(control, true);
 	}
 
 	/**
-	 * 캯
+	 * 监听器构造函数
 	 * 
 	 * @param control
-	 *            ؼ
+	 *            网格控件
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 */
 	public CornerListener(SplControl control, boolean editable) {
 		this.control = control;
@@ -46,10 +46,10 @@ public class CornerListener implements MouseListener {
 	}
 
 	/**
-	 * ʱĴ
+	 * 鼠标左键按下时的处理
 	 * 
 	 * @param e
-	 *            ¼
+	 *            鼠标事件
 	 */
 	public void mousePressed(MouseEvent e) {
 		if (!editable) {
@@ -61,7 +61,7 @@ public class CornerListener implements MouseListener {
 	}
 
 	/**
-	 * 갴뿪¼
+	 * 鼠标按键离开事件
 	 */
 	public void mouseReleased(MouseEvent e) {
 		showPopup(e);
@@ -74,7 +74,7 @@ public class CornerListener implements MouseListener {
 	}
 
 	/**
-	 * ʾҼ˵
+	 * 显示右键弹出菜单
 	 * 
 	 * @param e
 	 */
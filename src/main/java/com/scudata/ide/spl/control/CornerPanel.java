@@ -9,37 +9,37 @@ import javax.swing.JPanel;
 import com.scudata.ide.spl.GCSpl;
 
 /**
- * 
+ * 角落面板
  *
  */
 public class CornerPanel extends JPanel {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * ؼ
+	 * 网格控件
 	 */
 	private SplControl control;
 	/**
-	 * ǷԱ༭
+	 * 是否可以编辑
 	 */
 	private boolean editable = true;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param control
-	 *            ؼ
+	 *            网格控件
 	 */
 	public CornerPanel(SplControl control) {
 		this(control, true);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param control
-	 *            ؼ
+	 *            网格控件
 	 * @param editable
-	 *            ǷԱ༭
+	 *            是否可以编辑
 	 */
 	public CornerPanel(SplControl control, boolean editable) {
 		this.control = control;
@@ -50,7 +50,7 @@ public class CornerPanel extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 绘制面板
 	 */
 	public void paint(Graphics g) {
 		int w = RowHeaderPanel.getW(control);
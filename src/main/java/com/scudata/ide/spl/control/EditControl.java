@@ -7,7 +7,7 @@ import javax.swing.JPanel;
 import com.scudata.cellset.datamodel.CellSet;
 
 /**
- * ؼ
+ * 网格控件
  *
  */
 public class EditControl extends SplControl {
@@ -15,12 +15,12 @@ public class EditControl extends SplControl {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * ǷԱ༭
+	 * 网格是否可以编辑
 	 */
 	private boolean editable = true;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 *
 	 * @param rows int
 	 * @param cols int
@@ -30,9 +30,9 @@ public class EditControl extends SplControl {
 	}
 
 	/**
-	 * ɽǲ
+	 * 生成角部面板
 	 *
-	 * @return ǲ
+	 * @return 角部面板
 	 */
 	JPanel createCorner() {
 		JPanel panel = new CornerPanel(this, editable);
@@ -42,9 +42,9 @@ public class EditControl extends SplControl {
 	}
 
 	/**
-	 * ׸
+	 * 生成列首格面板
 	 *
-	 * @return ׸
+	 * @return 列首格面板
 	 */
 	JPanel createColHeaderView() {
 		headerPanel = new ColHeaderPanel(this, editable);
@@ -56,9 +56,9 @@ public class EditControl extends SplControl {
 	}
 
 	/**
-	 * ׸
+	 * 生成行首格面板
 	 *
-	 * @return ׸
+	 * @return 行首格面板
 	 */
 	JPanel createRowHeaderView() {
 		JPanel panel = new RowHeaderPanel(this, editable);
@@ -70,9 +70,9 @@ public class EditControl extends SplControl {
 	}
 
 	/**
-	 * 
+	 * 生成内容面板
 	 *
-	 * @return 
+	 * @return 内容面板
 	 */
 	ContentPanel createContentView() {
 		ContentPanel panel = newContentPanel(cellSet);
@@ -89,7 +89,7 @@ public class EditControl extends SplControl {
 	}
 
 	/**
-	 * SPL
+	 * 创建SPL网格面板
 	 * @param cellSet
 	 * @return ContentPanel
 	 */
@@ -99,7 +99,7 @@ public class EditControl extends SplControl {
 	}
 
 	/**
-	 * ύı༭
+	 * 提交文本编辑
 	 */
 	public void acceptText() {
 		this.contentView.submitEditor();
@@ -16,23 +16,23 @@ import com.scudata.ide.spl.AtomicCell;
 import com.scudata.ide.spl.GMSpl;
 
 /**
- * ק
+ * 网格鼠标拖拽监听器
  *
  */
 public class EditDropListener implements DropTargetListener {
 	/**
-	 * ֮ǰѡ
+	 * 之前选择的坐标
 	 */
 	private CellLocation oldPos = new CellLocation(0, (int) 0);
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public EditDropListener() {
 	}
 
 	/**
-	 * ק
+	 * 拖拽进入了区域
 	 */
 	public void dragEnter(DropTargetDragEvent dtde) {
 		ContentPanel cp = (ContentPanel) dtde.getDropTargetContext()
@@ -45,7 +45,7 @@ public class EditDropListener implements DropTargetListener {
 	}
 
 	/**
-	 * ק
+	 * 在拖拽区域内
 	 */
 	public void dragOver(DropTargetDragEvent dtde) {
 		Point p = dtde.getLocation();
@@ -81,7 +81,7 @@ public class EditDropListener implements DropTargetListener {
 	}
 
 	/**
-	 * ͷţִק¼
+	 * 鼠标释放，执行拖拽事件
 	 */
 	public void drop(DropTargetDropEvent dtde) {
 		Point p = dtde.getLocation();
@@ -127,7 +127,7 @@ public class EditDropListener implements DropTargetListener {
 		control.fireRegionSelect(true);
 		control.repaint();
 
-		// Drop水ť
+		// Drop激活保存按钮
 		GMSpl.enableSave();
 	}
 }
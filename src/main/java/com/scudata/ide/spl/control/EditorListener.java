@@ -6,137 +6,137 @@ import java.util.Vector;
 import com.scudata.common.Area;
 
 /**
- * ༭ؼ༭֮䴫ϢĽӿ
+ * 编辑控件与网格编辑器之间传递消息的接口
  */
 public interface EditorListener {
 	/**
-	 * һҼϢṩݲ˵ĵλ
+	 * 鼠标右击，发送右键消息，提供快捷菜单的的位置
 	 * 
 	 * @param e
-	 *            ¼
+	 *            鼠标事件
 	 * @param clickPlace
-	 *            һλãGCжĳ
+	 *            鼠标右击的位置，GC中定义的常量
 	 */
 	public void rightClicked(MouseEvent e, int clickPlace);
 
 	/**
-	 * ˫
+	 * 鼠标双击
 	 * 
 	 * @param e
-	 *            ¼
+	 *            鼠标事件
 	 */
 	public void doubleClicked(MouseEvent e);
 
 	/**
-	 * ѡ¼
+	 * 区域选中事件
 	 * 
 	 * @param vectRegion
-	 *            ѡеڲΪCellRegion(ӿֶ֧ѡڲûʵ)
+	 *            选中的区域向量，内部数据为表格区域CellRegion(接口支持多选，内部尚没实现)
 	 * @param selectedRows
-	 *            ѡеб
+	 *            选中的行编号
 	 * @param selectedColumns
-	 *            ѡеб
+	 *            选中的列编号
 	 * @param selectedAll
-	 *            Ƿѡ
+	 *            是否选择了整个网格
 	 */
 	public void regionsSelect(Vector<Object> vectRegion,
 			Vector<Integer> selectedRows, Vector<Integer> selectedColumns,
 			boolean selectedAll, boolean keyEvent);
 
 	/**
-	 * п䶯Ϣ
+	 * 列宽变动消息
 	 * 
 	 * @param vectColumn
-	 *            䶯ڲΪкInteger
+	 *            变动的列向量，内部数据为列号Integer
 	 * @param nWidth
-	 *            䶯Ŀ
-	 * @return ture Ϣѱfalse Ϣδ
+	 *            变动的宽度
+	 * @return ture 消息已被处理，false 消息未被处理
 	 */
 	public boolean columnWidthChange(Vector<Integer> vectColumn, float nWidth);
 
 	/**
-	 * и߱䶯Ϣ
+	 * 行高变动消息
 	 * 
 	 * @param vectRow
-	 *            䶯ڲΪкInteger
+	 *            变动的行向量，内部数据为行号Integer
 	 * @param nHeight
-	 *            䶯ĸ߶
-	 * @return ture Ϣѱfalse Ϣδ
+	 *            变动的高度
+	 * @return ture 消息已被处理，false 消息未被处理
 	 */
 	public boolean rowHeightChange(Vector<Integer> vectRow, float nHeight);
 
 	/**
-	 * ճϢ
+	 * 区域粘帖消息
 	 * 
 	 * @param area
-	 *            ճı
+	 *            粘贴的表格区域
 	 * @param nRowPos
-	 *            ճλ
+	 *            粘贴的行位置
 	 * @param nColumnPos
-	 *            ճλ
-	 * @return ture Ϣѱfalse Ϣδ
+	 *            粘贴的列位置
+	 * @return ture 消息已被处理，false 消息未被处理
 	 */
 	public boolean cellRegionPaste(Area area, int nRowPos, int nColumnPos);
 
 	/**
-	 * չϢûʵ֣
+	 * 区域扩展消息（尚没实现）
 	 * 
 	 * @param area
-	 *            չı
+	 *            扩展的表格区域
 	 * @param nColumnExpand
-	 *            չ(չչ0չ)
+	 *            列扩展数(正，向右扩展；负，向左扩展；0，不扩展)
 	 * @param nRowExpand
-	 *            չ(չչ0չ)
-	 * @return ture Ϣѱfalse Ϣδ
+	 *            行扩展数(正，向下扩展；负，向上扩展；0，不扩展)
+	 * @return ture 消息已被处理，false 消息未被处理
 	 */
 	public boolean cellRegionExpand(Area area, int nColumnExpand, int nRowExpand);
 
 	/**
-	 * Ϣûʵ֣
+	 * 区域缩减消息（尚没实现）
 	 * 
 	 * @param area
-	 *            ı
+	 *            缩减的表格区域
 	 * @param nRowShrink
-	 *            ȥ0
+	 *            行缩减数（正，缩去的行数；0，不缩减）
 	 * @param nColumnShrink
-	 *            ȥ0
-	 * @return ture Ϣѱfalse Ϣδ
+	 *            列缩减数（正，缩去的列数；0，不缩减）
+	 * @return ture 消息已被处理，false 消息未被处理
 	 */
 	public boolean cellRegionShrink(Area area, int nColumnShrink, int nRowShrink);
 
 	/**
-	 * ı༭Ϣ
+	 * 表格文本编辑消息
 	 * 
 	 * @param row
-	 *            ༭к
+	 *            编辑的行号
 	 * @param col
-	 *            ༭к
+	 *            编辑的列号
 	 * @param strText
-	 *            ༭ı
-	 * @return ture Ϣѱfalse Ϣδ
+	 *            编辑后的文本
+	 * @return ture 消息已被处理，false 消息未被处理
 	 */
 	public boolean cellTextInput(int row, int col, String strText);
 
 	/**
-	 * ͱ༭¼ı
+	 * 发送编辑器正在录入的文本
 	 * 
 	 * @param text
-	 *            ¼ı
+	 *            正在录入的文本
 	 */
 	public void editorInputing(String text);
 
 	/**
-	 * ƶ
+	 * 鼠标移动
 	 * 
 	 * @param row
-	 *            
+	 *            行
 	 * @param col
-	 *            
+	 *            列
 	 */
 	public void mouseMove(int row, int col);
 
 	/**
-	 * ƶ
+	 * 滚动条移动
 	 */
 	public void scrollBarMoved();
 
@@ -6,41 +6,41 @@ import java.awt.event.MouseEvent;
 import com.scudata.ide.common.GC;
 
 /**
- * ༭Ҽ¼
+ * 网格编辑器的右键点击事件
  *
  */
 public class EditorRightClicked extends MouseAdapter {
 	/**
-	 * ؼ
+	 * 网格控件
 	 */
 	private SplControl control;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param control
-	 *            ؼ
+	 *            网格控件
 	 */
 	public EditorRightClicked(SplControl control) {
 		this.control = control;
 	}
 
 	/**
-	 * 갴
+	 * 鼠标按下
 	 */
 	public void mousePressed(MouseEvent e) {
 		showPopup(e);
 	}
 
 	/**
-	 * ͷ
+	 * 鼠标释放
 	 */
 	public void mouseReleased(MouseEvent e) {
 		showPopup(e);
 	}
 
 	/**
-	 * ʾҼ˵
+	 * 显示右键弹出菜单
 	 * 
 	 * @param e
 	 */
@@ -19,47 +19,47 @@ import com.scudata.ide.common.control.ControlUtilsBase;
 import com.scudata.ide.spl.GCSpl;
 
 /**
- * бͷ
+ * 行表头监听器
  *
  */
 public class RowHeaderListener implements MouseMotionListener, MouseListener, KeyListener {
-	/** ༭ؼ */
+	/** 网格编辑控件 */
 	private SplControl control;
 
-	/** ѡʱʼ */
+	/** 选择时的起始行 */
 	private int startSelectedRow;
 
-	/** ıиʱʼY */
+	/** 改变行高时的鼠标起始点Y坐标 */
 	private int resizeStartY;
 
-	/** ıиʱı */
+	/** 改变行高时的被操作行 */
 	private int resizeStartRow;
 
-	/** ıиǰԭʼи */
+	/** 改变行高前的原始行高 */
 	private float oldCellHeight;
 
-	/** ıи߹еʱи */
+	/** 改变行高过程中的临时行高 */
 	private int tmpHeight;
 
-	/** ǷԱ༭ */
+	/** 是否可以编辑 */
 	private boolean editable = true;
-	/** ǰ */
+	/** 当前格坐标 */
 	private transient CellLocation activeCell = null;
 
 	/**
-	 * 캯
+	 * 监听器构造函数
 	 * 
-	 * @param control ༭ؼ
+	 * @param control 网格编辑控件
 	 */
 	public RowHeaderListener(SplControl control) {
 		this(control, true);
 	}
 
 	/**
-	 * 캯
+	 * 监听器构造函数
 	 * 
-	 * @param control  ༭ؼ
-	 * @param editable ǷԱ༭
+	 * @param control  网格编辑控件
+	 * @param editable 是否可以编辑
 	 */
 	public RowHeaderListener(SplControl control, boolean editable) {
 		this.control = control;
@@ -67,7 +67,7 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ¼
+	 * 鼠标进入事件
 	 * 
 	 * @param e
 	 */
@@ -75,9 +75,9 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * 갴ʱĴ
+	 * 鼠标按下时的处理
 	 * 
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mousePressed(MouseEvent e) {
 		if (!editable) {
@@ -109,7 +109,7 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 				}
 				control.m_selectedCols.clear();
 
-				// ѧϰexcelѡ׸Ϊǰ
+				// 学习excel把选中区域的首格作为当前格
 				int firstCol = control.getContentPanel().drawStartCol;
 				if (firstCol < 1 || firstCol > control.cellSet.getColCount())
 					firstCol = 1;
@@ -145,9 +145,9 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ͷʱĴ
+	 * 鼠标释放时的处理
 	 * 
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mouseReleased(MouseEvent e) {
 		if (!editable) {
@@ -156,7 +156,7 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 		}
 		int y = e.getY();
 		int row = ControlUtils.lookupHeaderIndex(y, control.cellY, control.cellH);
-		// קʱˢ¿ؼϲֻҪקˣͽֹ
+		// 拖拽时，刷新控件造成拖不动，只要被拖拽了，就禁止活动格
 		if (activeCell != null && control.m_selectedRows != null
 				&& control.m_selectedRows.contains(activeCell.getRow())) {
 			control.setActiveCell(activeCell, false);
@@ -214,14 +214,14 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 				showPopup(me);
 			}
 		};
-		SwingUtilities.invokeLater(t); // ӳٵ˵ڿؼбס
+		SwingUtilities.invokeLater(t); // 延迟弹出，避免菜单在控件中被挡住
 	}
 
 	/**
-	 * ¼
+	 * 鼠标点击事件
 	 */
 	public void mouseClicked(MouseEvent e) {
-		// ˫бĸߣԶиߵĹ
+		// 双击行标题的格线，触发自动调整行高的功能
 		if (e.getButton() == MouseEvent.BUTTON1 && e.getClickCount() == 2) {
 			int y = e.getY();
 			int row = ControlUtils.lookupHeaderIndex(y, control.cellY, control.cellH);
@@ -239,15 +239,15 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ˳¼
+	 * 鼠标退出事件
 	 */
 	public void mouseExited(MouseEvent e) {
 	}
 
 	/**
-	 * ס϶ʱĴ
+	 * 按住左键拖动鼠标时的处理
 	 * 
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mouseDragged(MouseEvent e) {
 		if (!editable) {
@@ -264,7 +264,7 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 			if (start <= 0) {
 				return;
 			}
-			// קٷʱбѡ
+			// 拖拽多行再返回时，行被多选
 			control.m_selectedRows.clear();
 			for (int i = start; i <= end; i++) {
 				control.addSelectedRow(new Integer(i));
@@ -295,7 +295,7 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 					rc.setHeight(newHeight);
 				control.getRowHeader().getView().repaint();
 
-				// ק̲ʵʱˢݣᵼֵwrapBuffer
+				// 拖拽过程不实时刷新内容，会导致文字的wrapBuffer急剧冗余
 				control.getViewport().getView().repaint();
 				ControlUtilsBase.clearWrapBuffer();
 			}
@@ -303,9 +303,9 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ƶʱĴ
+	 * 鼠标移动时的处理
 	 * 
-	 * @param e ¼
+	 * @param e 鼠标事件
 	 */
 	public void mouseMoved(MouseEvent e) {
 		if (!editable) {
@@ -328,7 +328,7 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ʾҼ˵
+	 * 显示右键弹出菜单
 	 * 
 	 * @param e
 	 */
@@ -339,15 +339,15 @@ public class RowHeaderListener implements MouseMotionListener, MouseListener, Ke
 	}
 
 	/**
-	 * ̰ͷ¼
+	 * 键盘按键释放事件
 	 */
 	public void keyReleased(KeyEvent e) {
 	}
 
 	/**
-	 * ̱µĴ µshift+Ӧı䵱ǰѡе
+	 * 键盘被按下的处理 若按下的是shift+方向键，相应改变当前选中的行
 	 * 
-	 * @param e ¼
+	 * @param e 键盘事件
 	 */
 	public void keyPressed(KeyEvent e) {
 		if (!editable) {
@@ -15,40 +15,40 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.spl.GCSpl;
 
 /**
- * ׸
+ * 行首格面板
  *
  */
 public class RowHeaderPanel extends JPanel {
 	private static final long serialVersionUID = 1L;
-	/** ༭ؼ */
+	/** 网格编辑控件 */
 	private SplControl control;
 	/**
-	 * ǷԱ༭
+	 * 是否可以编辑
 	 */
 	private boolean editable = true;
 	/**
-	 * 
+	 * 网格解析器
 	 */
 	CellSetParser parser;
 	/**
-	 * ͼĳߴ
+	 * 图标的尺寸
 	 */
 	private final int ICON_SIZE = 12;
 
 	/**
-	 * ׸幹캯
+	 * 行首格面板构造函数
 	 * 
-	 * @param control ༭ؼ
+	 * @param control 网格编辑控件
 	 */
 	public RowHeaderPanel(SplControl control) {
 		this(control, true);
 	}
 
 	/**
-	 * ׸幹캯
+	 * 行首格面板构造函数
 	 * 
-	 * @param control  ༭ؼ
-	 * @param editable ǷԱ༭
+	 * @param control  网格编辑控件
+	 * @param editable 是否可以编辑
 	 */
 	public RowHeaderPanel(SplControl control, boolean editable) {
 		this.control = control;
@@ -60,7 +60,7 @@ public class RowHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化行坐标
 	 */
 	public void initRowLocations() {
 		int rows = control.cellSet.getRowCount() + 1;
@@ -68,9 +68,9 @@ public class RowHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化行坐标
 	 * 
-	 * @param rows 
+	 * @param rows 行数
 	 */
 	public void initRowLocations(int rows) {
 		control.cellY = new int[rows];
@@ -78,7 +78,7 @@ public class RowHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化坐标
 	 */
 	private void initCoords() {
 		int rows = control.cellSet.getRowCount() + 1;
@@ -100,9 +100,9 @@ public class RowHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * 
+	 * 绘制面板
 	 * 
-	 * @param g 
+	 * @param g 画布
 	 */
 	public void paintComponent(Graphics g) {
 		int w = getW(control);
@@ -177,19 +177,19 @@ public class RowHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * ͼƬ
+	 * 缓存图片
 	 */
 	final static BufferedImage BI = new BufferedImage(5, 5, BufferedImage.TYPE_INT_RGB);
 
 	/**
-	 * ÿһĿ
+	 * 每一层的宽度
 	 */
 	private static final int LEVEL_WIDTH = 14;
 
 	/**
-	 * ȡ׸Ŀ
+	 * 取行首格面板的宽度
 	 * 
-	 * @param control ؼ
+	 * @param control 网格控件
 	 * @return
 	 */
 	public static int getW(SplControl control) {
@@ -197,9 +197,9 @@ public class RowHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * ȡ׸Ŀ
+	 * 取行首格面板的宽度
 	 * 
-	 * @param control ؼ
+	 * @param control 网格控件
 	 * @return
 	 */
 	public static int getHeaderW(SplControl control) {
@@ -211,9 +211,9 @@ public class RowHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * ȡĿ
+	 * 取层的宽度
 	 * 
-	 * @param control ؼ
+	 * @param control 网格控件
 	 * @return
 	 */
 	private static int getLevelWidth(SplControl control) {
@@ -221,7 +221,7 @@ public class RowHeaderPanel extends JPanel {
 	}
 
 	/**
-	 * ȡߴС
+	 * 取面板尺寸大小
 	 */
 	public Dimension getPreferredSize() {
 		int height = 0;
@@ -6,24 +6,24 @@ import java.awt.event.MouseListener;
 import com.scudata.common.CellLocation;
 
 /**
- * ѡеԪʱʾԪ༭ļ
+ * 鼠标选中单元格时显示单元格编辑器的监听器
  */
 public class ShowEditorListener implements MouseListener {
-	/**  */
+	/** 网格内容面板 */
 	private ContentPanel cp;
 
 	/**
-	 * 캯
+	 * 监听器构造函数
 	 * 
 	 * @param panel
-	 *            
+	 *            网格内容面板
 	 */
 	public ShowEditorListener(ContentPanel panel) {
 		this.cp = panel;
 	}
 
 	/**
-	 * 갴¼ʾԪ༭ؼ
+	 * 鼠标按下事件处理，显示单元格编辑控件
 	 * 
 	 * @param e
 	 */
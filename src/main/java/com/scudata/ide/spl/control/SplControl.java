@@ -32,7 +32,7 @@ import com.scudata.ide.spl.GMSpl;
 import com.scudata.ide.spl.SheetSpl;
 
 /**
- * ༭ؼ
+ * 网格编辑控件
  *
  */
 public abstract class SplControl extends ControlBase {
@@ -40,89 +40,89 @@ public abstract class SplControl extends ControlBase {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 
+	 * 网格对象
 	 */
 	public PgmCellSet cellSet;
 
-	/** ڱ༭ʱѡеĵԪ */
+	/** 在编辑时被选中的单元格区域 */
 	private Vector<Object> m_selectedAreas = new Vector<Object>();
 
-	/** ǰԪλ */
+	/** 当前单元格的位置 */
 	public CellLocation m_activeCell;
 
-	/** ִʱĵǰλ */
+	/** 单步执行时的当前位置 */
 	private CellLocation stepPosition;
 
-	/** ϵ */
+	/** 断点 */
 	private ArrayList<CellLocation> breakPoints = new ArrayList<CellLocation>();
 
-	/**  */
+	/** 计算的坐标 */
 	private CellLocation calcPos;
 
-	/** ༭״̬ */
+	/** 编辑状态 */
 	int status;
 
-	/** ༭ʱѡекż */
+	/** 编辑时被选中的列号集 */
 	Vector<Integer> m_selectedCols = new Vector<Integer>();
 
-	/** ༭ʱѡекż */
+	/** 编辑时被选中的行号集 */
 	Vector<Integer> m_selectedRows = new Vector<Integer>();
 
-	/** ༭ʱǷѡ */
+	/** 编辑时是否选中了整个网格 */
 	boolean m_cornerSelected = false;
 
-	/** ༭ */
+	/** 编辑监听器集合 */
 	ArrayList<EditorListener> m_editorListener;
 
-	/**  */
+	/** 内容面板 */
 	public ContentPanel contentView = null;
 
-	/** ༭ʱ׸X */
+	/** 编辑时各列首格的X坐标数组 */
 	int[] cellX;
 
-	/** ༭ʱ׸Y */
+	/** 编辑时各行首格的Y坐标数组 */
 	int[] cellY;
 
-	/** ༭ʱ׸Ŀ */
+	/** 编辑时各列首格的宽度数组 */
 	int[] cellW;
 
-	/** ༭ʱ׸ĸ߶ */
+	/** 编辑时各行首格的高度数组 */
 	int[] cellH;
 
-	/** ʾ */
+	/** 显示比例 */
 	public float scale = 1.0f;
 
 	/**
-	 * ǰ궯ѡӻѡб༭
+	 * 当前的鼠标动作是选择格子还是选中编辑格
 	 */
 	private boolean isSelectingCell = false;
 
 	/**
-	 * бͷбͷ
+	 * 行表头和列表头面板
 	 */
 	JPanel rowHeaderView = null, colHeaderView = null;
 	/**
-	 * бͷ
+	 * 列表头面板
 	 */
 	ColHeaderPanel headerPanel = null;
 
 	/**
-	 * ҳ
+	 * 页面对象
 	 */
 	protected SheetSpl sheet;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public SplControl() {
 		this(1, 1);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param rows 
-	 * @param cols 
+	 * @param rows 行数
+	 * @param cols 列数
 	 */
 	public SplControl(int rows, int cols) {
 		super();
@@ -133,7 +133,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * Sheet
+	 * 设置Sheet对象
 	 * @param sheet
 	 */
 	public void setSheet(SheetSpl sheet) {
@@ -141,7 +141,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȡSheet
+	 * 取Sheet对象
 	 * @return
 	 */
 	public SheetSpl getSheet() {
@@ -149,12 +149,12 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * 
+	 * 设置网格滚动条监听器
 	 */
 	public void setSplScrollBarListener() {
 		getVerticalScrollBar().addAdjustmentListener(new AdjustmentListener() {
 			public void adjustmentValueChanged(AdjustmentEvent e) {
-				// ˢʱˢ£ʱٶȺܿ첻
+				// 如果刷新慢加上延时刷新，暂时速度很快不加了
 				contentView.repaint();
 			}
 		});
@@ -169,7 +169,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * øǷѡ
+	 * 设置格子是否选中
 	 * 
 	 * @param isSelect
 	 */
@@ -178,7 +178,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȡ
+	 * 取网格面板
 	 * 
 	 * @return
 	 */
@@ -187,7 +187,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȡбͷ
+	 * 取行表头面板
 	 * 
 	 * @return
 	 */
@@ -196,7 +196,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȡбͷ
+	 * 取列表头面板
 	 * 
 	 * @return
 	 */
@@ -205,7 +205,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * öϵ
+	 * 设置断点
 	 * 
 	 * @param breakPoints
 	 */
@@ -214,7 +214,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȡϵ
+	 * 取断点
 	 * 
 	 * @return
 	 */
@@ -223,7 +223,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * Ƿ˶ϵ
+	 * 是否设置了断点的行
 	 * 
 	 * @param row int
 	 * @return boolean
@@ -240,9 +240,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ɾжϵ
+	 * 删除行断点
 	 * 
-	 * @param row ָк
+	 * @param row 指定的行号
 	 */
 	public void removeRowBreakPoints(int row) {
 		for (int i = breakPoints.size() - 1; i >= 0; i--) {
@@ -256,9 +256,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ɾжϵ
+	 * 删除列断点
 	 * 
-	 * @param col ָк
+	 * @param col 指定的列号
 	 */
 	public void removeColBreakPoints(int col) {
 		for (int i = breakPoints.size() - 1; i >= 0; i--) {
@@ -272,7 +272,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * öϵ
+	 * 设置断点
 	 */
 	public void setBreakPoint() {
 		CellLocation cp = getActiveCell();
@@ -288,10 +288,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * Ƿϵ
+	 * 是否断点格
 	 * 
-	 * @param row к
-	 * @param col к
+	 * @param row 行号
+	 * @param col 列号
 	 * @return
 	 */
 	public boolean isBreakPointCell(int row, int col) {
@@ -306,7 +306,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * Ƿѡеĸ
+	 * 是否选中的格
 	 * 
 	 * @return
 	 */
@@ -315,7 +315,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȡǰ
+	 * 取当前格
 	 * 
 	 * @return
 	 */
@@ -324,16 +324,16 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * õִи
+	 * 设置单步调试执行格坐标
 	 * 
-	 * @param cp ִи
+	 * @param cp 单步调试执行格坐标
 	 */
 	public void setStepPosition(CellLocation cp) {
 		this.stepPosition = cp;
 	}
 
 	/**
-	 * ȡִи
+	 * 取单步调试执行格坐标
 	 * 
 	 * @return
 	 */
@@ -342,7 +342,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * Ҫĸ
+	 * 设置要计算的格坐标
 	 * 
 	 * @param cp
 	 */
@@ -351,7 +351,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȡҪĸ
+	 * 取要计算的格坐标
 	 * 
 	 * @return
 	 */
@@ -360,17 +360,17 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ¼ر༭ؼı
+	 * 重新加载编辑控件的文本
 	 */
 	public void reloadEditorText() {
 		this.contentView.reloadEditorText();
 	}
 
 	/**
-	 * ȡӵ
+	 * 取格子的坐标
 	 * 
-	 * @param row ӵк
-	 * @param col ӵк
+	 * @param row 格子的行号
+	 * @param col 格子的列号
 	 * @return
 	 */
 	public Point[] getCellPoint(int row, int col) {
@@ -385,9 +385,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * õǰ
+	 * 设置当前格
 	 * 
-	 * @param pos ӵ
+	 * @param pos 格子的坐标
 	 * @return
 	 */
 	public Area setActiveCell(CellLocation pos) {
@@ -395,10 +395,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * õǰ
+	 * 设置当前格
 	 * 
-	 * @param pos            ӵ
-	 * @param clearSelection Ƿ֮ǰѡ
+	 * @param pos            格子的坐标
+	 * @param clearSelection 是否清除之前的选择区域
 	 * @return
 	 */
 	public Area setActiveCell(CellLocation pos, boolean clearSelection) {
@@ -406,13 +406,13 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * õǰ
+	 * 设置当前格
 	 * 
-	 * @param pos             ǰԪλ clearSelection :
-	 *                        ͨҪѡΪѡʱƶؼѡ򣬱ѡ ѡкܶƣܲ
-	 *                        øλúĵ,ϲסѡе
-	 * @param clearSelection  Ƿ֮ǰѡ
-	 * @param scrollToVisible ǰûʾʱǷǰʹʾ
+	 * @param pos             当前单元格位置 clearSelection :
+	 *                        通常情况要清空选择，特殊为选中行列时，移动控件到选择框，避免多区域选择 多区域选择有很多限制，不能插入等
+	 *                        返回设置该位置后的调整过的区域,用于上层记住选中的区域
+	 * @param clearSelection  是否清除之前的选择区域
+	 * @param scrollToVisible 当前格没有显示时，是否滚动到当前格使其显示
 	 * @return
 	 */
 	public Area setActiveCell(CellLocation pos, boolean clearSelection,
@@ -453,7 +453,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ǰԪһͬһλõĵԪΪǰԪ
+	 * 将当前单元格上一行同一列位置的单元格变为当前单元格
 	 */
 	public Area toUpCell() {
 		if (m_activeCell == null) {
@@ -478,7 +478,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ǰԪһͬһλõĵԪΪǰԪ
+	 * 将当前单元格下一行同一列位置的单元格变为当前单元格
 	 */
 	public Area toDownCell() {
 		if (m_activeCell == null) {
@@ -504,7 +504,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ǰԪһͬһλõĵԪΪǰԪ
+	 * 将当前单元格左边一列同一行位置的单元格变为当前单元格
 	 */
 	public Area toLeftCell() {
 		if (m_activeCell == null) {
@@ -530,7 +530,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ǰԪұһͬһλõĵԪΪǰԪ
+	 * 将当前单元格右边一列同一行位置的单元格变为当前单元格
 	 */
 	public Area toRightCell() {
 		if (m_activeCell == null) {
@@ -558,7 +558,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ڱһе"tab"ĩкһʱ±׵Ϳ
+	 * 在表格最后一列点击"tab"键在末列后增加一列时，更新表格列首的坐标和宽度
 	 */
 	private void updateCoords() {
 		int cols = cellSet.getColCount() + 1;
@@ -582,9 +582,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ǰѡչָ򣬰SHIFT+ʱ
+	 * 将当前选择区域扩展到指定区域，按SHIFT+按键时调用
 	 * 
-	 * @param region Ҫչ
+	 * @param region 要扩展到的区域
 	 */
 	public void selectToArea(Area region) {
 		addSelectedArea(region, true);
@@ -599,9 +599,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ǰѡչǰһͬһλ
+	 * 将当前选择区域扩展到当前区域下一行同一列位置
 	 * 
-	 * @param tarPos Ŀ
+	 * @param tarPos 目标格子坐标
 	 */
 	public void selectToDownCell(CellLocation tarPos) {
 		Area region = getSelectedArea(-1);
@@ -675,9 +675,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ǰѡչǰһͬһλ
+	 * 将当前选择区域扩展到当前区域上一行同一列位置
 	 * 
-	 * @param tarPos Ŀ
+	 * @param tarPos 目标格子坐标
 	 */
 	void selectToUpCell(CellLocation tarPos) {
 		Area region = getSelectedArea(-1);
@@ -751,9 +751,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ǰѡչǰһͬһλ
+	 * 将当前选择区域扩展到当前区域下一列同一行位置
 	 * 
-	 * @param tarPos Ŀ
+	 * @param tarPos 目标格子坐标
 	 */
 	void selectToRightCell(CellLocation tarPos) {
 		Area region = getSelectedArea(-1);
@@ -814,9 +814,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ǰѡչǰһͬһλ
+	 * 将当前选择区域扩展到当前区域上一列同一行位置
 	 * 
-	 * @param tarPos Ŀ
+	 * @param tarPos 目标格子坐标
 	 */
 	void selectToLeftCell(CellLocation tarPos) {
 		Area region = getSelectedArea(-1);
@@ -877,9 +877,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ѡ
+	 * 增加选择的列
 	 * 
-	 * @param c к
+	 * @param c 列号
 	 */
 	public void addSelectedCol(Integer c) {
 		if (m_selectedCols.contains(c)) {
@@ -889,9 +889,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ѡ
+	 * 增加选择的行
 	 * 
-	 * @param r к
+	 * @param r 行号
 	 */
 	public void addSelectedRow(Integer r) {
 		if (m_selectedRows.contains(r)) {
@@ -901,14 +901,14 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ѡ
+	 * 清除选择的区域
 	 */
 	public void clearSelectedArea() {
 		m_selectedAreas.clear();
 	}
 
 	/**
-	 * ȡѡ
+	 * 取选择的区域
 	 * 
 	 * @return
 	 */
@@ -917,16 +917,16 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ѡ
+	 * 设置选择的区域
 	 * 
-	 * @param newAreas ѡ
+	 * @param newAreas 选择的区域
 	 */
 	public void setSelectedAreas(Vector<Object> newAreas) {
 		m_selectedAreas = newAreas;
 	}
 
 	/**
-	 * ȡָindex<0ʱʾȡTop
+	 * 取得指定的区域，index<0时表示取最后的Top区域
 	 * 
 	 * @param index int
 	 * @return Area
@@ -942,9 +942,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ѡ
+	 * 设置选择的区域
 	 * 
-	 * @param a ѡ
+	 * @param a 选择的区域
 	 */
 	public void setSelectedArea(Area a) {
 		if (a == null) {
@@ -955,7 +955,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȫѡ
+	 * 全选整个网格
 	 */
 	public void selectAll() {
 		m_cornerSelected = true;
@@ -968,7 +968,7 @@ public abstract class SplControl extends ControlBase {
 		}
 		m_selectedRows.clear();
 		for (int i = 1; i <= rows; i++) {
-			// conroladdжзظ,жʱܷʱ
+			// conrol的add方法会判断有否重复行,行多时很费时间
 			m_selectedRows.add(new Integer(i));
 		}
 		setSelectedArea(new Area(1, (int) 1, rows, cols));
@@ -977,10 +977,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ѡ
+	 * 增加选择的区域
 	 * 
-	 * @param a          ѡ
-	 * @param removeLast Ƿɾһѡ
+	 * @param a          选择的区域
+	 * @param removeLast 是否删除上一次选择的区域
 	 */
 	public void addSelectedArea(Area a, boolean removeLast) {
 		if (a == null || m_selectedAreas.contains(a)) {
@@ -993,7 +993,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ɲƿؼ
+	 * 生成并绘制控件
 	 */
 	public void draw() {
 		JPanel corner = createCorner();
@@ -1019,9 +1019,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ָ
+	 * 滚动到指定区域
 	 * 
-	 * @param newArea Ҫʾ
+	 * @param newArea 要显示的区域
 	 */
 	public void scrollToArea(Area newArea) {
 		if (newArea == null) {
@@ -1042,33 +1042,33 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * Ͻ
+	 * 生成网格的左上角面板
 	 * 
 	 * @return
 	 */
 	abstract JPanel createCorner();
 
 	/**
-	 * ϱͷ
+	 * 生成网格的上表头面板
 	 * 
 	 * @return
 	 */
 	abstract JPanel createColHeaderView();
 
 	/**
-	 * ͷ
+	 * 生成网格的左表头面板
 	 * 
 	 * @return
 	 */
 	abstract JPanel createRowHeaderView();
 
-	/**  */
+	/** 生成网格的内容面板 */
 	abstract ContentPanel createContentView();
 
 	/**
-	 * 
+	 * 设置网格
 	 * 
-	 * @param cellSet 
+	 * @param cellSet 网格对象
 	 */
 	public void setCellSet(PgmCellSet cellSet) {
 		this.cellSet = cellSet;
@@ -1076,35 +1076,35 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * 
+	 * 获得网格对象
 	 * 
-	 * @return 
+	 * @return 网格对象
 	 */
 	public PgmCellSet getCellSet() {
 		return cellSet;
 	}
 
 	/**
-	 * ӿ
+	 * 获得网格对象接口
 	 */
 	public ICellSet getICellSet() {
 		return cellSet;
 	}
 
 	/**
-	 * ༭¼
+	 * 添加网格编辑事件监听器
 	 * 
-	 * @param listener ʵ
+	 * @param listener 监听器实例
 	 */
 	public void addEditorListener(EditorListener listener) {
 		this.m_editorListener.add(listener);
 	}
 
 	/**
-	 * иߵϢ
+	 * 触发行高调整消息
 	 * 
-	 * @param vectHeader бż
-	 * @param newHeight  µиֵ
+	 * @param vectHeader 行编号集合
+	 * @param newHeight  新的行高值
 	 */
 	void fireRowHeaderResized(Vector<Integer> vectHeader, float newHeight) {
 		for (int i = 0; i < this.m_editorListener.size(); i++) {
@@ -1124,10 +1124,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * пϢ
+	 * 触发列宽调整消息
 	 * 
-	 * @param vectHeader бż
-	 * @param newWidth   µпֵ
+	 * @param vectHeader 列编号集合
+	 * @param newWidth   新的列宽值
 	 */
 	void fireColHeaderResized(Vector<Integer> vectHeader, float newWidth) {
 		for (int i = 0; i < this.m_editorListener.size(); i++) {
@@ -1148,7 +1148,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ƶϢδʵ
+	 * 触发区域移动消息，未实现
 	 * 
 	 * @return
 	 */
@@ -1156,7 +1156,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ճϢδʵ
+	 * 触发区域粘贴消息，未实现
 	 * 
 	 * @return
 	 */
@@ -1164,9 +1164,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ѡϢ
+	 * 触发区域选择消息
 	 * 
-	 * @param keyEvent boolean ¼ֵˢ
+	 * @param keyEvent boolean 键盘事件不触发属性值刷新
 	 */
 	void fireRegionSelect(boolean keyEvent) {
 		for (int i = 0; i < this.m_editorListener.size(); i++) {
@@ -1178,10 +1178,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * Ԫıֵ༭Ϣ
+	 * 触发单元格文本值编辑结束消息
 	 * 
-	 * @param pos  ༭ĵԪλ
-	 * @param text ı
+	 * @param pos  被编辑的单元格位置
+	 * @param text 新输入的文本
 	 */
 	public void fireCellTextInput(CellLocation pos, String text) {
 		for (int i = 0; i < this.m_editorListener.size(); i++) {
@@ -1192,9 +1192,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * Ԫı༭Ϣ
+	 * 触发单元格文本正被编辑消息
 	 * 
-	 * @param text ڱ༭ı
+	 * @param text 正在被编辑的文本
 	 */
 	void fireEditorInputing(String text) {
 		for (int i = 0; i < this.m_editorListener.size(); i++) {
@@ -1205,10 +1205,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ƶ¼
+	 * 鼠标移动事件
 	 * 
-	 * @param row к
-	 * @param col к
+	 * @param row 行号
+	 * @param col 列号
 	 */
 	void fireMouseMove(int row, int col) {
 		for (int i = 0; i < this.m_editorListener.size(); i++) {
@@ -1219,10 +1219,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * һ¼
+	 * 触发鼠标右击事件
 	 * 
-	 * @param e          ¼
-	 * @param clickPlace һλãGCжĳ
+	 * @param e          鼠标事件
+	 * @param clickPlace 右击位置，GC中定义的常量
 	 */
 	void fireRightClicked(MouseEvent e, int clickPlace) {
 		for (int i = 0; i < this.m_editorListener.size(); i++) {
@@ -1233,7 +1233,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ˫¼
+	 * 触发鼠标双击事件
 	 * 
 	 * @param e
 	 */
@@ -1246,10 +1246,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * 
+	 * 插入列
 	 * 
-	 * @param col   λ
-	 * @param count 
+	 * @param col   插入位置
+	 * @param count 插入的列数
 	 */
 	public List<NormalCell> insertColumn(int col, int count) {
 		if (col > cellSet.getColCount() || col < 0) {
@@ -1261,7 +1261,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * 
+	 * 插入列
 	 * @param cellSet
 	 * @param col
 	 * @param count
@@ -1271,9 +1271,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ׷
+	 * 追加列
 	 * 
-	 * @param count ׷ӵ
+	 * @param count 追加的列数
 	 */
 	public void addColumn(int count) {
 		addCol(cellSet, count);
@@ -1281,7 +1281,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ׷
+	 * 追加列
 	 * @param cellSet
 	 * @param count
 	 */
@@ -1290,7 +1290,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * Сıпʱؼ
+	 * 当插入列、改变列宽时，重设控件宽度
 	 */
 	private void resetControlWidth() {
 		Point hp = this.getColumnHeader().getViewPosition();
@@ -1303,7 +1303,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * Сıиʱؼ߶
+	 * 当插入行、改变行高时，重设控件高度
 	 */
 	private void resetControlHeight() {
 		Point hp = this.getRowHeader().getViewPosition();
@@ -1316,10 +1316,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ɾ
+	 * 删除列
 	 * 
-	 * @param col   ɾλ
-	 * @param count ɾ
+	 * @param col   删除位置
+	 * @param count 删除的列数
 	 */
 	public List<NormalCell> removeColumn(int col, int count) {
 		List<NormalCell> adjustCells = null;
@@ -1340,7 +1340,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ɾ
+	 * 删除列
 	 * @param cellSet
 	 * @param col
 	 * @param count
@@ -1351,10 +1351,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * 
+	 * 插入行
 	 * 
-	 * @param row   λ
-	 * @param count 
+	 * @param row   行位置
+	 * @param count 插入的行数
 	 */
 	public List<NormalCell> insertRow(int row, int count) {
 		if (row > cellSet.getRowCount() || row < 0) {
@@ -1366,7 +1366,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * 
+	 * 插入行
 	 * @param cellSet
 	 * @param row
 	 * @param count
@@ -1376,9 +1376,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ʾı
+	 * 设置显示的比例
 	 * 
-	 * @param ratio ٷֱȵ
+	 * @param ratio 百分比的整数
 	 */
 	public void setDisplayScale(int ratio) {
 		Point p = this.getViewport().getViewPosition();
@@ -1398,7 +1398,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȡʾı
+	 * 取显示的比例
 	 * 
 	 * @return
 	 */
@@ -1407,9 +1407,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ׷
+	 * 追加行
 	 * 
-	 * @param count ׷ӵ
+	 * @param count 追加的行数
 	 */
 	public void addRow(int count) {
 		addRow(cellSet, count);
@@ -1417,7 +1417,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ׷
+	 * 追加行
 	 * @param cellSet
 	 * @param count
 	 */
@@ -1426,10 +1426,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ɾ
+	 * 删除行
 	 * 
-	 * @param row   λ
-	 * @param count ɾ
+	 * @param row   行位置
+	 * @param count 删除的行数
 	 */
 	public List<NormalCell> removeRow(int row, int count) {
 		List<NormalCell> adjustCells = null;
@@ -1450,7 +1450,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ɾ
+	 * 删除行
 	 * @param cellSet
 	 * @param row
 	 * @param count
@@ -1461,7 +1461,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ɾк
+	 * 删除行列后，清除被砍掉的区域
 	 */
 	public void clearSelectedAreas() {
 		clearSelectedArea();
@@ -1471,7 +1471,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ɾ߸ӣǰʱƶһݸӵCTRL-BACKSPACE¼
+	 * 删除左边格子，当前格在首列时移动到上一行最后有内容格子的最后。CTRL-BACKSPACE事件
 	 */
 	public void ctrlBackSpace() {
 		CellLocation activeCell = getActiveCell();
@@ -1497,7 +1497,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ɾֻѡһӣҺΪʱ,һнCTRL-DELETE¼
+	 * 删除本格。只选中一个格子，而且后面为空时〔包含本格〕,将下一行接上来。CTRL-DELETE事件
 	 */
 	public void ctrlDelete() {
 		Area a = null;
@@ -1533,10 +1533,10 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ƶ
+	 * 移动区域
 	 * 
-	 * @param srcRect Դ
-	 * @param tarRect Ŀ
+	 * @param srcRect 源区域
+	 * @param tarRect 目标区域
 	 * @return
 	 */
 	private boolean moveRect(CellRect srcRect, CellRect tarRect) {
@@ -1544,11 +1544,11 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ƶ
+	 * 移动区域
 	 * 
-	 * @param srcRect        Դ
-	 * @param tarRect        Ŀ
-	 * @param scrollToTarget ĿδʾʱǷĿʹʾ
+	 * @param srcRect        源区域
+	 * @param tarRect        目标区域
+	 * @param scrollToTarget 目标区域未显示时，是否滚动到目标区域使其显示
 	 * @return
 	 */
 	private boolean moveRect(CellRect srcRect, CellRect tarRect,
@@ -1567,9 +1567,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȡָʹõУǿգ
+	 * 获取指定行中使用的列（非空）
 	 * 
-	 * @param row к
+	 * @param row 行号
 	 * @return
 	 */
 	private int getUsedCols(int row) {
@@ -1579,9 +1579,9 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ȡָпյ
+	 * 获取指定行中空的列
 	 * 
-	 * @param row к
+	 * @param row 行号
 	 * @return
 	 */
 	private int getEmptyColumns(int row) {
@@ -1597,7 +1597,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * connnectRowӵһеupColλ
+	 * 将connnectRow连接到上一行的upCol位置
 	 * 
 	 * @param connectRow int
 	 * @param upCol      int
@@ -1625,7 +1625,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ÿؼе༭
+	 * 获得控件中的输入编辑框
 	 */
 	public JTextComponent getEditor() {
 		if (contentView == null) {
@@ -1641,11 +1641,11 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * ƥ䵽ĸ
+	 * 设置搜索匹配到的格子
 	 * 
-	 * @param row                   к
-	 * @param col                   к
-	 * @param searchInSelectedCells Ƿѡ
+	 * @param row                   行号
+	 * @param col                   列号
+	 * @param searchInSelectedCells 是否在选择区域内搜索的
 	 */
 	public void setSearchedCell(int row, int col, boolean searchInSelectedCells) {
 		setActiveCell(new CellLocation(row, col));
@@ -1658,7 +1658,7 @@ public abstract class SplControl extends ControlBase {
 	}
 
 	/**
-	 * رտؼ
+	 * 关闭控件
 	 */
 	public void dispose() {
 		cellSet = null;
@@ -18,26 +18,26 @@ import com.scudata.ide.spl.AtomicCell;
 import com.scudata.ide.spl.GCSpl;
 
 /**
- * ؼļ
+ * 网格控件的监听器
  *
  */
 public class SplControlListener implements EditorListener {
 	/**
-	 * ؼ༭
+	 * 网格控件编辑器
 	 */
 	SplEditor editor;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param editor ؼ༭
+	 * @param editor 网格控件编辑器
 	 */
 	public SplControlListener(SplEditor editor) {
 		this.editor = editor;
 	}
 
 	/**
-	 * ȡؼ༭
+	 * 取网格控件编辑器
 	 * 
 	 * @return
 	 */
@@ -46,14 +46,14 @@ public class SplControlListener implements EditorListener {
 	}
 
 	/**
-	 * Ҽ¼
+	 * 右键点击事件
 	 */
 	public void rightClicked(MouseEvent e, int clickPlace) {
 		editor.getSplListener().rightClicked(e.getComponent(), e.getX(), e.getY());
 	}
 
 	/**
-	 * ѡ
+	 * 选择区域
 	 */
 	public void regionsSelect(Vector<Object> vectRegion, Vector<Integer> selectedRows, Vector<Integer> selectedColumns,
 			boolean selectedAll, boolean keyEvent) {
@@ -83,10 +83,10 @@ public class SplControlListener implements EditorListener {
 	}
 
 	/**
-	 * п仯
+	 * 列宽变化了
 	 */
 	public boolean columnWidthChange(Vector<Integer> vectColumn, float nWidth) {
-		// ипıʱwrapString Keyһ
+		// 行高列宽改变时会产生大量冗余的wrapString Key，清空一下
 		ControlUtils.clearWrapBuffer();
 		editor.selectedCols = vectColumn;
 		editor.setColumnWidth(nWidth);
@@ -94,10 +94,10 @@ public class SplControlListener implements EditorListener {
 	}
 
 	/**
-	 * и߱仯
+	 * 行高变化了
 	 */
 	public boolean rowHeightChange(Vector<Integer> vectRow, float nHeight) {
-		// ипıʱwrapString Keyһ
+		// 行高列宽改变时会产生大量冗余的wrapString Key，清空一下
 		ControlUtils.clearWrapBuffer();
 		editor.selectedRows = vectRow;
 		editor.setRowHeight(nHeight);
@@ -105,11 +105,11 @@ public class SplControlListener implements EditorListener {
 	}
 
 	/**
-	 * ƶ¼
+	 * 区域移动事件
 	 * 
-	 * @param area       
-	 * @param nRowPos    к
-	 * @param nColumnPos к
+	 * @param area       区域
+	 * @param nRowPos    行号
+	 * @param nColumnPos 列号
 	 * @return
 	 */
 	public boolean cellRegionMove(Area area, int nRowPos, int nColumnPos) {
@@ -117,52 +117,52 @@ public class SplControlListener implements EditorListener {
 	}
 
 	/**
-	 * ճϢ
+	 * 区域粘帖消息
 	 * 
-	 * @param area       ճı
-	 * @param nRowPos    ճλ
-	 * @param nColumnPos ճλ
-	 * @return ture Ϣѱfalse Ϣδ
+	 * @param area       粘贴的表格区域
+	 * @param nRowPos    粘贴的行位置
+	 * @param nColumnPos 粘贴的列位置
+	 * @return ture 消息已被处理，false 消息未被处理
 	 */
 	public boolean cellRegionPaste(Area area, int nRowPos, int nColumnPos) {
 		return true;
 	}
 
 	/**
-	 * չϢûʵ֣
+	 * 区域扩展消息（尚没实现）
 	 * 
-	 * @param area          չı
-	 * @param nColumnExpand չ(չչ0չ)
-	 * @param nRowExpand    չ(չչ0չ)
-	 * @return ture Ϣѱfalse Ϣδ
+	 * @param area          扩展的表格区域
+	 * @param nColumnExpand 列扩展数(正，向右扩展；负，向左扩展；0，不扩展)
+	 * @param nRowExpand    行扩展数(正，向下扩展；负，向上扩展；0，不扩展)
+	 * @return ture 消息已被处理，false 消息未被处理
 	 */
 	public boolean cellRegionExpand(Area area, int nColumnExpand, int nRowExpand) {
 		return true;
 	}
 
 	/**
-	 * Ϣûʵ֣
+	 * 区域缩减消息（尚没实现）
 	 * 
-	 * @param area          ı
-	 * @param nRowShrink    ȥ0
-	 * @param nColumnShrink ȥ0
-	 * @return ture Ϣѱfalse Ϣδ
+	 * @param area          缩减的表格区域
+	 * @param nRowShrink    行缩减数（正，缩去的行数；0，不缩减）
+	 * @param nColumnShrink 列缩减数（正，缩去的列数；0，不缩减）
+	 * @return ture 消息已被处理，false 消息未被处理
 	 */
 	public boolean cellRegionShrink(Area area, int nColumnShrink, int nRowShrink) {
 		return true;
 	}
 
 	/**
-	 * ȡи߱仯ԭ
+	 * 取列高变化的原子命令
 	 * 
-	 * @param control ؼ
-	 * @param row     к
-	 * @param col     к
-	 * @param newText ı
+	 * @param control 网格控件
+	 * @param row     行号
+	 * @param col     列号
+	 * @param newText 文本
 	 * @return
 	 */
 	public static AtomicCell getCellHeightCmd(SplControl control, int row, int col, String newText) {
-		// ԪʾʱԶиߣϣľһд
+		// 冲出单元格显示时不自动调整行高，希望看到的就是一行代码
 		if (!ConfigOptions.bAutoSizeRowHeight.booleanValue()) {
 			return null;
 		}
@@ -180,12 +180,12 @@ public class SplControlListener implements EditorListener {
 	}
 
 	/**
-	 * ı༭Ϣ
+	 * 表格文本编辑消息
 	 * 
-	 * @param row     ༭к
-	 * @param col     ༭к
-	 * @param strText ༭ı
-	 * @return ture Ϣѱfalse Ϣδ
+	 * @param row     编辑的行号
+	 * @param col     编辑的列号
+	 * @param strText 编辑后的文本
+	 * @return ture 消息已被处理，false 消息未被处理
 	 */
 	public boolean cellTextInput(int row, int col, String strText) {
 		CellSet ics = editor.getComponent().cellSet;
@@ -213,7 +213,7 @@ public class SplControlListener implements EditorListener {
 	}
 
 	/**
-	 * ˫¼
+	 * 鼠标双击事件
 	 * 
 	 * @param e MouseEvent
 	 */
@@ -230,16 +230,16 @@ public class SplControlListener implements EditorListener {
 	}
 
 	/**
-	 * ƶ
+	 * 鼠标移动
 	 * 
-	 * @param row 
-	 * @param col 
+	 * @param row 行
+	 * @param col 列
 	 */
 	public void mouseMove(int row, int col) {
 	}
 
 	/**
-	 * ƶ¼
+	 * 滚动条移动事件
 	 */
 	public void scrollBarMoved() {
 
@@ -58,83 +58,83 @@ import com.scudata.ide.spl.etl.ObjectElement;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ༭
+ * 网格编辑器
  *
  */
 public class SplEditor {
-	/** CTRL-ENTER¼ */
+	/** CTRL-ENTER事件，插入行 */
 	public static final byte HK_CTRL_ENTER = 0;
-	/** CTRL-INSERT¼ƵԪ */
+	/** CTRL-INSERT事件，右移单元格 */
 	public static final byte HK_CTRL_INSERT = 2;
-	/** ALT-INSERT¼ƵԪ */
+	/** ALT-INSERT事件，下移单元格 */
 	public static final byte HK_ALT_INSERT = 3;
 
-	/** ճѡ */
+	/** 粘贴选项，常规 */
 	public static final byte PASTE_OPTION_NORMAL = 0;
-	/** ճѡ */
+	/** 粘贴选项，插入空行 */
 	public static final byte PASTE_OPTION_INSERT_ROW = 1;
-	/** ճѡ */
+	/** 粘贴选项，插入空列 */
 	public static final byte PASTE_OPTION_INSERT_COL = 2;
-	/** ճѡĿ */
+	/** 粘贴选项，目标区域格子下移 */
 	public static final byte PASTE_OPTION_PUSH_BOTTOM = 3;
-	/** ճѡĿ */
+	/** 粘贴选项，目标区域格子右移 */
 	public static final byte PASTE_OPTION_PUSH_RIGHT = 4;
 
 	/**
-	 * ؼ
+	 * 网格控件
 	 */
 	protected EditControl control;
 
 	/**
-	 * 
+	 * 撤销重做管理器
 	 */
 	public UndoManager undoManager;
 
 	/**
-	 * ༭
+	 * 编辑监听器
 	 */
 	private IEditorListener listener;
 
 	/**
-	 * ѡ״̬
+	 * 选择状态
 	 */
 	public byte selectState = GCSpl.SELECT_STATE_CELL;
 
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	private MessageManager mm = IdeSplMessage.get();
 
 	/**
-	 * Ƿ仯
+	 * 数据是否变化了
 	 */
 	private boolean isDataChanged = false;
 
 	/**
-	 * ѡеĸӾ
+	 * 选中的格子矩形
 	 */
 	public Vector<Object> selectedRects = new Vector<Object>();
 
 	/**
-	 * ѡек
+	 * 选中的列号
 	 */
 	public Vector<Integer> selectedCols = new Vector<Integer>();
 
 	/**
-	 * ѡек
+	 * 选中的行号
 	 */
 	public Vector<Integer> selectedRows = new Vector<Integer>();
 
 	/**
-	 * ҳ
+	 * 页面对象
 	 */
 	protected SheetSpl sheet;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param sheet   ҳ
-	 * @param context 
+	 * @param sheet   页面对象
+	 * @param context 上下文
 	 */
 	public SplEditor(SheetSpl sheet) {
 		this.sheet = sheet;
@@ -183,10 +183,10 @@ public class SplEditor {
 	}
 
 	/**
-	 * ༭ؼ
+	 * 构造编辑控件
 	 * 
-	 * @param rows 
-	 * @param cols 
+	 * @param rows 行数
+	 * @param cols 列数
 	 * @return EditControl
 	 */
 	protected EditControl newEditControl(int rows, int cols) {
@@ -196,7 +196,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * Ƿ仯
+	 * 设置网格数据是否变化了
 	 * 
 	 * @param isDataChanged
 	 */
@@ -206,7 +206,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡǷ仯
+	 * 取网格数据是否变化了
 	 * 
 	 * @return
 	 */
@@ -215,9 +215,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ü
+	 * 设置集算器网格
 	 * 
-	 * @param cellSet 
+	 * @param cellSet 集算器网格对象
 	 * @return
 	 * @throws Exception
 	 */
@@ -228,7 +228,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ѡһ
+	 * 选择第一个格子
 	 */
 	public void selectFirstCell() {
 		if (control.cellSet.getRowCount() < 1
@@ -251,10 +251,10 @@ public class SplEditor {
 	}
 
 	/**
-	 * ѡ
+	 * 选择格子
 	 * 
-	 * @param row к
-	 * @param col к
+	 * @param row 行号
+	 * @param col 列号
 	 */
 	public void selectCell(int row, int col) {
 		if (control.cellSet.getRowCount() < row
@@ -277,7 +277,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ༭
+	 * 增加网格编辑监听器
 	 * 
 	 * @param listener
 	 */
@@ -286,7 +286,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡ༭
+	 * 取网格编辑监听器
 	 * 
 	 * @return
 	 */
@@ -295,7 +295,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡؼ
+	 * 取网格控件
 	 * 
 	 * @return
 	 */
@@ -304,9 +304,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ִԭ
+	 * 执行原子命令集
 	 * 
-	 * @param cmds ԭ
+	 * @param cmds 原子命令集
 	 * @return
 	 */
 	public boolean executeCmd(Vector<IAtomicCmd> cmds) {
@@ -316,9 +316,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ִԭ
+	 * 执行原子命令
 	 * 
-	 * @param aCell ԭ
+	 * @param aCell 原子命令
 	 * @return
 	 */
 	public boolean executeCmd(IAtomicCmd aCell) {
@@ -328,7 +328,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * 
+	 * 撤销
 	 * 
 	 * @return
 	 */
@@ -342,7 +342,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ǷԳ
+	 * 是否可以撤销
 	 * 
 	 * @return
 	 */
@@ -351,7 +351,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * 
+	 * 重做
 	 * 
 	 * @return
 	 */
@@ -365,7 +365,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * Ƿ
+	 * 是否可以重做
 	 * 
 	 * @return
 	 */
@@ -374,7 +374,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ñ༭ؼı
+	 * 设置编辑控件的文本
 	 * 
 	 * @param text
 	 */
@@ -383,7 +383,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ͼ༭
+	 * 绘图编辑
 	 */
 	public void dialogChartEditor() {
 		if (isNothingSelected()) {
@@ -430,7 +430,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡб
+	 * 取画布的名称列表
 	 * 
 	 * @return
 	 */
@@ -490,11 +490,11 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡ
+	 * 取函数对象
 	 * 
-	 * @param row к
-	 * @param col к
-	 * @param oes ӳ
+	 * @param row 行号
+	 * @param col 列号
+	 * @param oes 函数对象映射
 	 * 
 	 * @return
 	 */
@@ -505,7 +505,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * Ƿѡ
+	 * 函数对象是否选择了
 	 * 
 	 * @return
 	 */
@@ -521,7 +521,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ༭Ի
+	 * 函数编辑对话框
 	 */
 	public void dialogFuncEditor() {
 		if (isNothingSelected()) {
@@ -556,7 +556,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡӳ
+	 * 取函数对象映射表
 	 * 
 	 * @return
 	 */
@@ -593,9 +593,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * /׷
+	 * 插入/追加行
 	 * 
-	 * @param insertBefore ǷСtrueǰ룬false׷С
+	 * @param insertBefore 是否插入行。true行前插入，false追加行。
 	 * @return
 	 */
 	public boolean insertRow(boolean insertBefore) {
@@ -615,16 +615,16 @@ public class SplEditor {
 	}
 
 	/**
-	 * /׷
+	 * 插入/追加行
 	 * 
-	 * @param rect         ѡ
-	 * @param insertBefore ǷСtrueǰ룬false׷С
+	 * @param rect         选择区域
+	 * @param insertBefore 是否插入行。true行前插入，false追加行。
 	 * @return
 	 */
 	public boolean insertRow(CellRect rect, boolean insertBefore) {
 		executeCmd(getInsertRow(insertBefore, rect));
 		if (insertBefore) {
-			// ϵλ
+			// 调整断点位置
 			ArrayList<CellLocation> breaks = control.getBreakPoints();
 			for (int i = 0; i < breaks.size(); i++) {
 				CellLocation cp = (CellLocation) breaks.get(i);
@@ -637,7 +637,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * Ƿѡ˶Ӿ
+	 * 是否选中了多个格子矩阵区域
 	 * 
 	 * @return
 	 */
@@ -646,7 +646,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡѡĸӾ
+	 * 获取选择的格子矩阵
 	 * 
 	 * @return
 	 */
@@ -658,7 +658,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡѡVectorÿԪضһCellRect
+	 * 获取所有选择区域的Vector，里面的每个元素都是一个CellRect对象
 	 * 
 	 * @return
 	 */
@@ -667,10 +667,10 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡ/׷еԭ
+	 * 取插入/追加行的原子命令
 	 * 
-	 * @param insertBefore ǷСtrueǰ룬false׷С
-	 * @param rect         ѡеĸӾ
+	 * @param insertBefore 是否插入行。true行前插入，false追加行。
+	 * @param rect         选中的格子矩阵
 	 * @return
 	 */
 	public AtomicSpl getInsertRow(boolean insertBefore, CellRect rect) {
@@ -689,9 +689,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ָԵĸ,׸
+	 * 复制指定行外观属性的格子,包含行首格
 	 * 
-	 * @param row к
+	 * @param row 行号
 	 * @return
 	 */
 	private ArrayList<RowCell> getApprCopiedRowCells(int row) {
@@ -702,7 +702,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * Ƿûѡ
+	 * 是否没有选择区域
 	 * 
 	 * @return
 	 */
@@ -711,11 +711,11 @@ public class SplEditor {
 	}
 
 	/**
-	 * õԪ
+	 * 设置单元格属性
 	 * 
-	 * @param type     ѡ
-	 * @param property 
-	 * @param value    ֵ
+	 * @param type     选择类型
+	 * @param property 格子属性类型
+	 * @param value    值
 	 * @return
 	 */
 	public boolean setProperty(byte type, byte property, Object value) {
@@ -784,7 +784,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡ
+	 * 取格子属性
 	 * 
 	 * @return
 	 */
@@ -818,16 +818,16 @@ public class SplEditor {
 	}
 
 	/**
-	 * /׷
+	 * 插入/追加列
 	 * 
-	 * @param rect         ѡ
-	 * @param insertBefore ǷСtrueǰ룬false׷С
+	 * @param rect         选择格子区域
+	 * @param insertBefore 是否插入列。true列前插入，false追加列。
 	 * @return
 	 */
 	public boolean insertCol(CellRect rect, boolean insertBefore) {
 		executeCmd(getInsertCol(insertBefore, rect));
 		if (insertBefore) {
-			// ϵλ
+			// 调整断点位置
 			ArrayList<CellLocation> breaks = control.getBreakPoints();
 			for (int i = 0; i < breaks.size(); i++) {
 				CellLocation cp = (CellLocation) breaks.get(i);
@@ -843,9 +843,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ׷
+	 * 追加列
 	 * 
-	 * @param cols ׷ӵ
+	 * @param cols 追加的列数
 	 */
 	public void appendCols(int cols) {
 		insertCol(new CellRect(1, (int) control.cellSet.getColCount(), 1,
@@ -853,9 +853,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡ׷еԭ
+	 * 取追加列的原子命令
 	 * 
-	 * @param cols ׷ӵ
+	 * @param cols 追加的列数
 	 * @return
 	 */
 	public IAtomicCmd getAppendCols(int cols) {
@@ -865,18 +865,18 @@ public class SplEditor {
 	}
 
 	/**
-	 * ׷ָĩβڿʱ
+	 * 追加指定的行数到末尾，用于块操作溢出时的添加行
 	 * 
-	 * @param rows ׷ӵ
+	 * @param rows 追加的行数
 	 */
 	public void appendRows(int rows) {
 		executeCmd(getAppendRows(rows));
 	}
 
 	/**
-	 * ȡ׷еԭ
+	 * 取追加行的原子命令
 	 * 
-	 * @param rows ׷ӵ
+	 * @param rows 追加的行数
 	 * @return
 	 */
 	public IAtomicCmd getAppendRows(int rows) {
@@ -885,9 +885,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ѵǰѡеΪͳһп
+	 * 把当前选中的列设为统一的列宽度
 	 * 
-	 * @param newWidth µп
+	 * @param newWidth 新的列宽
 	 */
 	public void setColumnWidth(float newWidth) {
 		Vector<IAtomicCmd> cmds = new Vector<IAtomicCmd>();
@@ -912,9 +912,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * õǰѡеĿ
+	 * 设置当前选中列的可视属性
 	 * 
-	 * @param visible Ƿ
+	 * @param visible 是否可视
 	 */
 	public void setColumnVisible(boolean visible) {
 		if (selectedCols == null || selectedCols.size() == 0) {
@@ -923,9 +923,9 @@ public class SplEditor {
 
 		ArrayList<Integer> list = new ArrayList<Integer>();
 		if (visible && selectedCols.size() == 1) {
-			int col = ((Number) selectedCols.get(0)).intValue(); // ѡеĵһ
-			if (col > 1) { // ȡʱһ֮ǰУȡ
-				// жϵһ֮ǰǷ
+			int col = ((Number) selectedCols.get(0)).intValue(); // 选中的第一列
+			if (col > 1) { // 取消隐藏时，如果第一列之前都是隐藏列，取消隐藏
+				// 判断第一行之前是否都是隐藏行
 				boolean allHideBefore = true;
 				for (int i = 1; i < col; i++) {
 					ColCell cc = (ColCell) control.cellSet.getColCell(i);
@@ -942,8 +942,8 @@ public class SplEditor {
 			}
 
 			int endCol = control.cellSet.getColCount();
-			if (col < endCol) { // ȡʱһ֮Уȡ
-				// жһ֮Ƿ
+			if (col < endCol) { // 取消隐藏时，如果最后一列之后都是隐藏列，取消隐藏
+				// 判断最后一列之后是否都是隐藏行
 				boolean allHideBehind = true;
 				for (int i = col + 1; i <= endCol; i++) {
 					ColCell cc = (ColCell) control.cellSet.getColCell(i);
@@ -969,10 +969,10 @@ public class SplEditor {
 	}
 
 	/**
-	 * õǰѡеĿ
+	 * 设置当前选中列的可视属性
 	 * 
-	 * @param columns ָ
-	 * @param visible Ƿ
+	 * @param columns 指定的列
+	 * @param visible 是否可视
 	 */
 	public void setColumnsVisible(ArrayList<Integer> columns, boolean visible) {
 		Vector<IAtomicCmd> cmds = new Vector<IAtomicCmd>();
@@ -990,9 +990,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ѵǰѡеΪͳһи߶
+	 * 把当前选中的行设为统一的行高度
 	 * 
-	 * @param newHeight и
+	 * @param newHeight 新行高
 	 */
 	public void setRowHeight(float newHeight) {
 		CellSetParser parser = new CellSetParser(control.getCellSet());
@@ -1018,7 +1018,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * Ϊи
+	 * 调整为合适行高
 	 */
 	public void adjustRowHeight() {
 		if (selectedRows == null || selectedRows.size() == 0) {
@@ -1042,7 +1042,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * Ϊп
+	 * 调整为合适列宽
 	 */
 	public void adjustColWidth() {
 		if (selectedCols == null || selectedCols.size() == 0) {
@@ -1066,19 +1066,19 @@ public class SplEditor {
 	}
 
 	/**
-	 * õǰѡеĿ
+	 * 设置当前选中行的可视属性
 	 * 
-	 * @param visible Ƿ
+	 * @param visible 是否可视
 	 */
 	public void setRowVisible(boolean visible) {
 		if (selectedRows == null || selectedRows.size() == 0) {
 			return;
 		}
 		ArrayList<Integer> list = new ArrayList<Integer>();
-		if (visible && selectedRows.size() == 1) { // ѡһʾ
+		if (visible && selectedRows.size() == 1) { // 选中一行显示
 			int row = ((Number) selectedRows.get(0)).intValue();
-			if (row > 1) { // ȡʱһ֮ǰУȡ
-				// жϵһ֮ǰǷ
+			if (row > 1) { // 取消隐藏时，如果第一行之前都是隐藏行，取消隐藏
+				// 判断第一行之前是否都是隐藏行
 				boolean allHideBefore = true;
 				for (int i = 1; i < row; i++) {
 					RowCell rc = (RowCell) control.cellSet.getRowCell(i);
@@ -1094,8 +1094,8 @@ public class SplEditor {
 				}
 			}
 			int endRow = control.cellSet.getRowCount();
-			if (row < endRow) { // ȡʱһ֮Уȡ
-				// жһ֮Ƿ
+			if (row < endRow) { // 取消隐藏时，如果最后一行之后都是隐藏行，取消隐藏
+				// 判断最后一行之后是否都是隐藏行
 				boolean allHideBehind = true;
 				for (int i = row + 1; i <= endRow; i++) {
 					RowCell rc = (RowCell) control.cellSet.getRowCell(i);
@@ -1120,10 +1120,10 @@ public class SplEditor {
 	}
 
 	/**
-	 * ָеĿ
+	 * 设置指定行的可视属性
 	 * 
-	 * @param rows    ָкб
-	 * @param visible Ƿ
+	 * @param rows    指定的行号列表
+	 * @param visible 是否可视
 	 */
 	public void setRowsVisible(ArrayList<Integer> rows, boolean visible) {
 		Vector<IAtomicCmd> cmds = new Vector<IAtomicCmd>();
@@ -1141,7 +1141,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȼִӦĲ ԱȽϸӣݿƶ
+	 * 按照热键执行相应的插入操作， 相对比较复杂，有数据块的移动等
 	 * 
 	 * @param key byte
 	 */
@@ -1159,10 +1159,10 @@ public class SplEditor {
 	}
 
 	/**
-	 * ִȼ
+	 * 执行热键
 	 * 
-	 * @param key  HK
-	 * @param rect ѡĸӾ
+	 * @param key  定义的HK常量类型
+	 * @param rect 选择的格子矩阵
 	 */
 	private void hotKeyInsert(byte key, CellRect rect) {
 		Vector<IAtomicCmd> cmds = new Vector<IAtomicCmd>();
@@ -1175,13 +1175,13 @@ public class SplEditor {
 		CellRect srcRect, tarRect;
 		switch (key) {
 		case HK_CTRL_ENTER:
-			/* ǱԼұߵĸӵһУ߸Ӳ䡣֮ǰ⣬һ */
+			/* 这个动作是本格以及右边的格子到下一行，左边格子不变。之前做的有问题，重新整理了一下 */
 			int newRow = -1;
-			if (curCol == 1) { // ǰǵһУֱӲ
+			if (curCol == 1) { // 如果当前格是第一列，直接插入行
 				newRow = curRow + rect.getRowCount();
 				cmds.add(getInsertRow(true,
 						new CellRect(curRow, curCol, rect.getRowCount(), 1)));
-			} else {// һ׷һУڶѵǰԼұ߸
+			} else {// 第一步先在下面插入或者追加一行，第二步把当前格以及右边格子下移
 				if (curRow < ics.getRowCount()) {
 					cmds.add(getInsertRow(true, new CellRect(curRow + 1,
 							curCol, 1, 1)));
@@ -1200,7 +1200,7 @@ public class SplEditor {
 				if (tmp != null)
 					cmds.addAll(tmp);
 			}
-			// 캯⣬ڻûв
+			// 这个构造函数特殊，现在还没有插入行
 			AtomicCell ac = new AtomicCell(control, curRow + 1);
 			ac.setProperty(AtomicCell.ROW_HEIGHT);
 			ac.setValue(new Float(control.cellSet.getRowCell(curRow)
@@ -1208,7 +1208,7 @@ public class SplEditor {
 			cmds.add(ac);
 			executeCmd(cmds);
 
-			// ϵλ
+			// 调整断点位置
 			ArrayList<CellLocation> breaks = control.getBreakPoints();
 
 			for (int i = breaks.size(); i < breaks.size(); i++) {
@@ -1265,9 +1265,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ƶ
+	 * 移动复制
 	 * 
-	 * @param key GCSplжĳ
+	 * @param key GCSpl中定义的常量
 	 */
 	public void moveCopy(short key) {
 		if (this.isMultiRectSelected()) {
@@ -1279,7 +1279,7 @@ public class SplEditor {
 		if (activeCell == null) {
 			return;
 		}
-		// ύǰ༭
+		// 提交当前编辑
 		control.getContentPanel().submitEditor();
 		CellSet ics = control.getCellSet();
 		CellSetParser parser = new CellSetParser(ics);
@@ -1346,7 +1346,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡԪѡ
+	 * 取单元格选择监听器
 	 * 
 	 * @return
 	 */
@@ -1356,9 +1356,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * /׷
+	 * 插入/追加列
 	 * 
-	 * @param insertBefore ǷСtrueУfalse׷
+	 * @param insertBefore 是否插入列。true插入列，false追加列
 	 * @return
 	 */
 	public boolean insertCol(boolean insertBefore) {
@@ -1378,9 +1378,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ¡
+	 * 克隆行
 	 * 
-	 * @param isAdjust ¡ʱǷʽ
+	 * @param isAdjust 克隆时是否调整表达式
 	 */
 	public void dupRow(boolean isAdjust) {
 		if (isMultiRectSelected()) {
@@ -1420,13 +1420,13 @@ public class SplEditor {
 	}
 
 	/**
-	 * ʾֵ
+	 * 显示格值
 	 */
 	public void showCellValue() {
 		CellRect cr = getSelectedRect();
 		if (cr == null)
 			return;
-		// ʾԶסƶ
+		// 显示结果并自动钉住、不移动光标
 		NormalCell nc = (NormalCell) control.cellSet.getCell(cr.getBeginRow(),
 				cr.getBeginCol());
 		if (nc != null) {
@@ -1437,10 +1437,10 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡ/׷еԭ
+	 * 取插入/追加列的原子命令
 	 * 
-	 * @param insertBefore ǷСtrueУfalse׷
-	 * @param rect         ѡĸӾ
+	 * @param insertBefore 是否插入列。true插入列，false追加列
+	 * @param rect         选择的格子矩阵
 	 * @return
 	 */
 	public IAtomicCmd getInsertCol(boolean insertBefore, CellRect rect) {
@@ -1460,9 +1460,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ָԵĸ,׸
+	 * 复制指定列外观属性的格子,包含列首格
 	 * 
-	 * @param col к
+	 * @param col 列号
 	 * @return
 	 */
 	private ArrayList<ColCell> getApprCopiedColCells(int col) {
@@ -1474,7 +1474,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ¡ӳ
+	 * 克隆格子属性映射表
 	 * 
 	 * @param aMap
 	 * @return
@@ -1487,9 +1487,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡӳ
+	 * 取格子属性映射表
 	 * 
-	 * @param type ѡ״̬GCжĳ
+	 * @param type 选择的状态，GC中定义的常量
 	 * @return
 	 */
 	private IByteMap getCellByteMap(byte type) {
@@ -1523,7 +1523,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡǰʾĵԪ
+	 * 取当前显示的单元格
 	 * 
 	 * @return
 	 */
@@ -1549,9 +1549,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ɾ
+	 * 删除
 	 * 
-	 * @param cmd GCSplжĳ
+	 * @param cmd GCSpl中定义的常量
 	 * @return
 	 */
 	public boolean delete(short cmd) {
@@ -1580,7 +1580,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * Ԫı༭
+	 * 单元格文本编辑
 	 */
 	public void textEditor() {
 		control.getContentPanel().submitEditor();
@@ -1602,13 +1602,13 @@ public class SplEditor {
 	}
 
 	/**
-	 * ע
+	 * 注释
 	 * 
 	 * @return
 	 */
 	public boolean note() {
 		if (isMultiRectSelected()) {
-			// עͶƬ
+			// 不能注释多片区域。
 			JOptionPane
 					.showMessageDialog(GV.appFrame,
 							mm.getMessage("dfxeditor.notemore"),
@@ -1645,7 +1645,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * õԪʾ
+	 * 设置单元格提示
 	 */
 	public void setTips() {
 		Vector<Object> rects = getSelectedRects();
@@ -1680,13 +1680,13 @@ public class SplEditor {
 	}
 
 	/**
-	 * 
+	 * 剪切
 	 * 
 	 * @return
 	 */
 	public boolean cut() {
 		if (isMultiRectSelected()) {
-			// ܼжƬ
+			// 不能剪切多片区域。
 			JOptionPane
 					.showMessageDialog(GV.appFrame,
 							mm.getMessage("dfxeditor.cutmore"),
@@ -1698,19 +1698,19 @@ public class SplEditor {
 	}
 
 	/**
-	 * ѡеĸ
+	 * 复制选中的格子
 	 * 
-	 * @return boolean,ûиʱfalse
+	 * @return boolean,没有格子时返回false
 	 */
 	public boolean copy() {
 		return copy(false, false);
 	}
 
 	/**
-	 * Ƹӣͬʱϵͳ崮
+	 * 复制格子，同时生产系统剪贴板串
 	 * 
-	 * @param isCutStatus boolean,Ƿ״̬
-	 * @param valueCopy   booleanǷֵϵͳ
+	 * @param isCutStatus boolean,是否剪切状态
+	 * @param valueCopy   boolean，是否生成值串化的系统剪贴板
 	 * @return boolean
 	 */
 	public boolean copy(boolean isCutStatus, boolean valueCopy) {
@@ -1769,7 +1769,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ǷԸƿɳִ
+	 * 是否可以复制可呈现代码
 	 * 
 	 * @return
 	 */
@@ -1790,7 +1790,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ƿɳִԻ
+	 * 复制可呈现代码对话框
 	 * 
 	 * @return
 	 */
@@ -1805,7 +1805,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ƿɳִ
+	 * 复制可呈现代码
 	 * 
 	 * @return
 	 */
@@ -1818,7 +1818,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡƿɳִַ
+	 * 获取复制可呈现代码字符串
 	 * 
 	 * @return
 	 */
@@ -1847,7 +1847,7 @@ public class SplEditor {
 				for (int col = cr.getBeginCol(); col <= cr.getEndCol(); col++) {
 					buf.append(LINE_SEP);
 					buf.append(COL_SEP + COL_SEP + "<td");
-					// п
+					// 设置列宽
 					buf.append(" width=" + parser.getColWidth(col) + "px");
 					buf.append(" align=\"center\"");
 					buf.append(" valign=\"center\"");
@@ -1871,7 +1871,7 @@ public class SplEditor {
 				if (copyHeader) {
 					buf.append(LINE_SEP);
 					buf.append(COL_SEP + COL_SEP + "<td");
-					if (isFirstRow) { // ñͷп
+					if (isFirstRow) { // 设置表头列宽
 						buf.append(" width=" + headerWidth + "px");
 					}
 					buf.append(" align=\"center\"");
@@ -1889,7 +1889,7 @@ public class SplEditor {
 					}
 					buf.append(LINE_SEP);
 					buf.append(COL_SEP + COL_SEP + "<td");
-					if (isFirstRow) { // п
+					if (isFirstRow) { // 设置列宽
 						buf.append(" width=" + parser.getColWidth(col) + "px");
 					}
 					int halign = parser.getHAlign(row, col);
@@ -1986,9 +1986,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ɫתΪhtmlʽ
+	 * 将颜色转为html格式
 	 * 
-	 * @param color ɫ
+	 * @param color 颜色
 	 * @return
 	 */
 	private String color2Html(Color color) {
@@ -2005,7 +2005,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * 븴
+	 * 代码复制
 	 * 
 	 * @return
 	 */
@@ -2044,9 +2044,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡѡĸӾ
+	 * 取选择的格子矩阵
 	 * 
-	 * @param rect ѡĸӾ
+	 * @param rect 选择的格子矩形
 	 * @return
 	 */
 	private Matrix getSelectedMatrix(CellRect rect) {
@@ -2054,9 +2054,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * չ
+	 * 展开行
 	 * 
-	 * @param row к
+	 * @param row 行号
 	 * @return
 	 */
 	public boolean expandRow(int row) {
@@ -2076,23 +2076,23 @@ public class SplEditor {
 	}
 
 	/**
-	 * Ӽճӻı
+	 * 从剪贴板粘贴格子或者文本数据
 	 * 
-	 * @return boolean ճǷʽ
+	 * @return boolean 粘贴后是否调整自身表达式
 	 */
 	public boolean paste(boolean isAdjustSelf) {
 		return paste(isAdjustSelf, PASTE_OPTION_NORMAL);
 	}
 
 	/**
-	 * Ӽճӻı
+	 * 从剪贴板粘贴格子或者文本数据
 	 * 
-	 * @param isAdjustSelf ճǷʽ
-	 * @param pasteOption  ճʱĿշʽշʽʱѡѭճЧ
+	 * @param isAdjustSelf 粘贴后是否调整自身表达式
+	 * @param pasteOption  粘贴时目标区域清空方式，当有清空方式时，按选择区域循环粘贴功能无效
 	 * @return
 	 */
 	public boolean paste(boolean isAdjustSelf, byte pasteOption) {
-		// շʽʱѡЧ
+		// 有清空方式时，选择区域无效
 		int curRow = 1;
 		int curCol = 1;
 		if (pasteOption != PASTE_OPTION_NORMAL) {
@@ -2157,10 +2157,10 @@ public class SplEditor {
 	}
 
 	/**
-	 * ִѡճ
+	 * 执行选项粘贴
 	 * 
-	 * @param rect   ѡĸӾ
-	 * @param option ճѡ
+	 * @param rect   选择的格子矩形
+	 * @param option 粘贴选项
 	 * @return
 	 */
 	private Vector<IAtomicCmd> executePasteOption(CellRect rect, byte option)
@@ -2185,7 +2185,7 @@ public class SplEditor {
 			try {
 				hotKeyInsert(HK_CTRL_INSERT, rect);
 			} catch (Exception x) {
-				// ǰλõ
+				// 当前位置的行数不够！
 				throw new RQException(mm.getMessage("dfxeditor.notenoughrows"));
 			}
 			break;
@@ -2193,7 +2193,7 @@ public class SplEditor {
 			try {
 				hotKeyInsert(HK_ALT_INSERT, rect);
 			} catch (Exception x) {
-				// ǰλõ
+				// 当前位置的列数不够！
 				throw new RQException(mm.getMessage("dfxeditor.notenoughcols"));
 			}
 			break;
@@ -2203,10 +2203,10 @@ public class SplEditor {
 	}
 
 	/**
-	 * ճ
+	 * 粘贴格子
 	 * 
-	 * @param isAdjustSelf ճǷʽ
-	 * @param cmds         ճʱҪִеΪnull
+	 * @param isAdjustSelf 粘贴后是否调整自身表达式
+	 * @param cmds         粘贴时需要执行的命令，可能为null
 	 * @return
 	 */
 	private boolean pasteCell(boolean isAdjustSelf, Vector<IAtomicCmd> cmds) {
@@ -2232,7 +2232,7 @@ public class SplEditor {
 		boolean isCut = (cs.srcCellSet == control.getCellSet())
 				&& cs.isCutStatus();
 		if (isCut) {
-			// ʱƶ, ͬһsheet,ּ֧в
+			// 剪切时用移动矩形, 不是同一个sheet,不支持剪切操作
 			cmds = GMSpl.getMoveRectCmd(this, cs.rect, targetRect);
 			GM.clipBoard(null);
 		} else {
@@ -2245,7 +2245,7 @@ public class SplEditor {
 			}
 			if (targetRect.getEndRow() + hideRowCount > control.cellSet
 					.getRowCount()) {
-				// 
+				// 行数不够补充
 				int addRowCount = targetRect.getEndRow() + hideRowCount
 						- control.cellSet.getRowCount();
 				cmds.add(getAppendRows(addRowCount));
@@ -2259,7 +2259,7 @@ public class SplEditor {
 			}
 			if (targetRect.getEndCol() + hideColCount > control.cellSet
 					.getColCount()) {
-				// 
+				// 列数不够补充
 				int addColCount = targetRect.getEndCol() + hideColCount
 						- control.cellSet.getColCount();
 				cmds.add(getAppendCols(addColCount));
@@ -2267,7 +2267,7 @@ public class SplEditor {
 			Area area = control.getSelectedArea(0);
 			if (area.getEndRow() == area.getBeginRow()
 					&& area.getBeginCol() == area.getEndCol()) {
-				// ֻѡһӵճȫ
+				// 只选择一个格子的情况，粘贴全部
 				int endRow = targetRect.getEndRow();
 				int rc = 0;
 				for (int r = targetRect.getBeginRow(); r <= control.cellSet
@@ -2296,7 +2296,7 @@ public class SplEditor {
 						targetRect.getBeginCol(), endRow, endCol);
 				targetRect = new CellRect(area);
 			} else if (selectState == cs.selectState) {
-				// ѡһлһУԴҲǶӦѡеҲճȫ
+				// 选择一行或者一列，而且源区域也是对应的选择行列的情况，也粘贴全部
 				if ((selectState == GC.SELECT_STATE_ROW && selectedRows.size() == 1)
 						|| (selectState == GC.SELECT_STATE_COL && selectedCols
 								.size() == 1)) {
@@ -2307,7 +2307,7 @@ public class SplEditor {
 				}
 			}
 
-			// ʱӦִ涯
+			// 剪切时不应该执行下面动作
 			AtomicSpl ar = new AtomicSpl(control);
 			ar.setType(AtomicSpl.PASTE_SELECTION);
 			ar.setRect(targetRect);
@@ -2318,7 +2318,7 @@ public class SplEditor {
 		}
 		executeCmd(cmds);
 
-		// ճճ
+		// 粘贴完后还能粘
 		if (!isCut) {
 			control.resetCellSelection(cs);
 		} else {
@@ -2328,13 +2328,13 @@ public class SplEditor {
 	}
 
 	/**
-	 * ִм
+	 * 执行剪切
 	 */
 	protected void moveRect() {
 	}
 
 	/**
-	 * ԪǷԺ
+	 * 单元格是否可以忽略
 	 * 
 	 * @param parser
 	 * @param cp
@@ -2354,9 +2354,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ϵͳճı
+	 * 从系统剪贴板粘贴文本
 	 * 
-	 * @param cmds ճʱҪͬʱִеԭ
+	 * @param cmds 粘贴时需要同时执行的原子命令集
 	 * @return
 	 */
 	private boolean pasteValue(Vector<IAtomicCmd> cmds) {
@@ -2411,17 +2411,17 @@ public class SplEditor {
 		return true;
 	}
 
-	/**  */
+	/** 清除 */
 	public static final byte CLEAR = 0;
-	/** ʽ */
+	/** 清除表达式 */
 	public static final byte CLEAR_EXP = 1;
-	/** ֵ */
+	/** 清除格值 */
 	public static final byte CLEAR_VAL = 2;
 
 	/**
-	 * 
+	 * 清除
 	 * 
-	 * @param clearType ʽ
+	 * @param clearType 清除方式
 	 * @return
 	 */
 	public boolean clear(byte clearType) {
@@ -2441,7 +2441,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡԭ
+	 * 取清除区域的原子命令集
 	 * 
 	 * @param rect
 	 * @param clearType
@@ -2466,10 +2466,10 @@ public class SplEditor {
 	}
 
 	/**
-	 * ȡԭ
+	 * 取清除的原子命令集
 	 * 
-	 * @param rect    
-	 * @param cmdType 
+	 * @param rect    清理的区域
+	 * @param cmdType 清理的命令
 	 * @return
 	 */
 	private Vector<IAtomicCmd> getClearCmds(CellRect rect, byte cmdType) {
@@ -2490,9 +2490,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ɾ
+	 * 删除行列
 	 * 
-	 * @param cmd ɾ
+	 * @param cmd 删除的命令
 	 */
 	private void deleteRowOrCol(short cmd) {
 		Vector<IAtomicCmd> cmds = new Vector<IAtomicCmd>();
@@ -2521,7 +2521,7 @@ public class SplEditor {
 		}
 		executeCmd(cmds);
 
-		// ѡΪʱɾǰѡ
+		// 当选中区域为最后行列时，删除后清除当前选中区域
 		CellRect rect = getSelectedRect();
 		if (rect != null) {
 			CellSet cs = control.getCellSet();
@@ -2533,21 +2533,21 @@ public class SplEditor {
 	}
 
 	/**
-	 * ѡ
+	 * 选择的区域
 	 */
 	private Vector<Object> selectedAreas;
 
 	/**
-	 * ѡ
+	 * 设置选择的区域
 	 * 
-	 * @param selectedAreas ѡ
+	 * @param selectedAreas 选择的区域
 	 */
 	public void setSelectedAreas(Vector<Object> selectedAreas) {
 		this.selectedAreas = selectedAreas;
 	}
 
 	/**
-	 * ѡ
+	 * 重置选择的区域
 	 */
 	public void resetSelectedAreas() {
 		control.setSelectedAreas(selectedAreas);
@@ -2626,7 +2626,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * ñ༭
+	 * 重置编辑器
 	 */
 	public void resetEditor() {
 		resetSelectedAreas();
@@ -2635,7 +2635,7 @@ public class SplEditor {
 	}
 
 	/**
-	 * õǰ
+	 * 重置当前格
 	 */
 	public void resetActiveCell() {
 		NormalCell cell = getDisplayCell();
@@ -2663,17 +2663,17 @@ public class SplEditor {
 	}
 
 	/**
-	 * ػбͷ
+	 * 重画行表头
 	 */
 	public void redrawRowHeader() {
-		// вıĶҪˢһ
+		// 引起行层次面板改变的动作，要刷新一下
 		control.getRowHeader().updateUI();
 	}
 
 	/**
-	 * ѡ״̬
+	 * 设置选择的状态
 	 * 
-	 * @param state ѡ״̬GCг
+	 * @param state 选择的状态。GC中常量
 	 */
 	private void setSelectState(byte state) {
 		selectState = state;
@@ -2681,9 +2681,9 @@ public class SplEditor {
 	}
 
 	/**
-	 * ѡ
+	 * 选择区域
 	 * 
-	 * @param scrollActiveCellToVisible Ƿѡʾ
+	 * @param scrollActiveCellToVisible 是否滚动到选择区域显示
 	 */
 	public void selectAreas(boolean scrollActiveCellToVisible) {
 		if (selectedAreas != null && !selectedAreas.isEmpty()) {
@@ -2716,14 +2716,14 @@ public class SplEditor {
 	}
 
 	/**
-	 * ALT-C
+	 * 键盘ALT-C
 	 */
 	protected void altC() {
 
 	}
 
 	/**
-	 * ALT-V
+	 * 键盘ALT-V
 	 */
 	protected void altV() {
 
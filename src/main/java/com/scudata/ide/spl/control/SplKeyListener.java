@@ -8,18 +8,18 @@ import com.scudata.ide.common.GV;
 import com.scudata.ide.spl.SPL;
 
 /**
- * 񰴼ʵCTRL-TABлһ
+ * 网格按键监听器。用于实现CTRL-TAB，切换到下一个网格
  *
  */
 public class SplKeyListener implements AWTEventListener {
 
 	/**
-	 * CTRLǷ
+	 * CTRL键是否按下了
 	 */
 	private boolean isCtrlDown = false;
 
 	/**
-	 * ¼
+	 * 触发事件
 	 */
 	public void eventDispatched(AWTEvent event) {
 		if (event.getClass() == KeyEvent.class) {
@@ -37,97 +37,97 @@ import com.scudata.ide.common.swing.FreeConstraints;
 import com.scudata.ide.common.swing.FreeLayout;
 
 /**
- * ڶԻ
+ * 关于对话框
  *
  */
 public class DialogAbout extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * CommonԴ
+	 * Common资源管理器
 	 */
 	protected MessageManager mm = IdeCommonMessage.get();
 
 	/**
-	 * Logoؼ
+	 * Logo控件
 	 */
 	protected JLabel jLabelLogo;
 	/**
-	 * رհť
+	 * 关闭按钮
 	 */
 	protected JButton jBClose = new JButton();
 	/**
-	 * ϲ
+	 * 上部面板
 	 */
 	protected JPanel panelTop = new JPanel();
 	/**
-	 * ʱ
+	 * 发布时间
 	 */
 	protected JLabel jLReleaseDate1 = new JLabel();
 	/**
-	 * ʱ
+	 * 发布时间
 	 */
 	protected JLabel jLReleaseDate2 = new JLabel();
 	/**
-	 * ˾
+	 * 公司名
 	 */
 	protected JLabel jLCompanyName = new JLabel();
 	/**
-	 * ַ
+	 * 网址
 	 */
 	protected JLabel jLWebsite = new JLabel();
 	/**
-	 * 绰
+	 * 电话
 	 */
 	protected JLabel jLTel = new JLabel();
 
 	/**
-	 * ַ
+	 * 网址
 	 */
 	protected JLabel jLbHttp = new JLabel();
 	/**
-	 * ַ2
+	 * 网址2
 	 */
 	protected JLabel jLbHttp2 = new JLabel();
 
 	/**
-	 * 绰ı
+	 * 电话文本框
 	 */
 	protected JLabel jLTel2 = new JLabel();
 	/**
-	 * ˾
+	 * 公司名称
 	 */
 	protected JLabel jLbName = new JLabel();
 
 	/**
-	 * ˾2
+	 * 公司名称2
 	 */
 	protected JLabel jLbName2 = new JLabel();
 	/**
-	 * Ʒ
+	 * 产品名
 	 */
 	protected JLabel jLProductName1 = new JLabel();
 	/**
-	 * Ʒ
+	 * 产品名
 	 */
 	protected JLabel jLProductName2 = new JLabel();
 	/**
-	 * JDKť
+	 * JDK按钮
 	 */
 	protected JButton jBJDK = new JButton();
 
 	/**
-	 * Ʒ
+	 * 产品名称
 	 */
 	protected String productName = null;
 
 	/**
-	 * 
+	 * 主面板
 	 */
 	protected JFrame parent = null;
 
 	/**
-	 * ť
+	 * 按钮面板
 	 */
 	protected JPanel jPButton = new JPanel();
 
@@ -136,7 +136,7 @@ public class DialogAbout extends JDialog {
 	public static final int ROW_HEIGHT = 25;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 */
 	public DialogAbout() {
@@ -163,7 +163,7 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * ʱд˷滻Logo
+	 * 调用时可以重写此方法来替换Logo
 	 * 
 	 * @return
 	 */
@@ -172,7 +172,7 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * д˷滻
+	 * 重写此方法可以替换发布日期
 	 * @return
 	 */
 	protected String getReleaseDate() {
@@ -180,7 +180,7 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * ڹر
+	 * 窗口关闭
 	 */
 	protected void closeDialog() {
 		GM.setWindowDimension(this);
@@ -188,15 +188,15 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * Լ
+	 * 按语言加载
 	 */
 	private void resetLangText() {
-		jBClose.setText(mm.getMessage("button.close")); // ر(C)
-		jBJDK.setText(mm.getMessage("dialogabout.jdk")); // JDK
+		jBClose.setText(mm.getMessage("button.close")); // 关闭(C)
+		jBJDK.setText(mm.getMessage("dialogabout.jdk")); // JDK环境
 	}
 
 	/**
-	 * ʾı
+	 * 设置显示文本
 	 * 
 	 * @param sDefault
 	 * @param sText
@@ -209,7 +209,7 @@ public class DialogAbout extends JDialog {
 			return;
 		}
 		int i = -1;
-		i = sText.indexOf(""); // ðΪָֿԺhttp://Ӣðֿ
+		i = sText.indexOf("："); // 必须用中文冒号作为分隔符分开，以和http://的英文冒号区分开
 
 		if (i == -1) {
 			lbTitle.setText(sDefault);
@@ -229,7 +229,7 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * Ϣ
+	 * 加载信息
 	 */
 	protected void loadMessage() {
 		jLProductName1.setText(mm.getMessage("dialogabout.productname"));
@@ -239,13 +239,13 @@ public class DialogAbout extends JDialog {
 		jLProductName2.setText(productName);
 		jLReleaseDate2.setText(getReleaseDate());
 
-		String tmp = mm.getMessage("dialogabout.providername");// ˾
+		String tmp = mm.getMessage("dialogabout.providername");// 公司名称
 		String vendorName = mm.getMessage("dialogabout.defvendor");
 		setText(tmp, vendorName, jLCompanyName, jLbName);
-		tmp = mm.getMessage("dialogabout.providerhttp");// ˾ַ
+		tmp = mm.getMessage("dialogabout.providerhttp");// 公司网址
 		String vendorURL = mm.getMessage("dialogabout.defvendorurl");
 		setText(tmp, vendorURL, jLWebsite, jLbHttp);
-		tmp = mm.getMessage("dialogabout.providertel");// ˾绰
+		tmp = mm.getMessage("dialogabout.providertel");// 公司电话
 		String vendorTel = "010-51295366";
 		setText(tmp, vendorTel, jLTel, jLTel2);
 
@@ -266,7 +266,7 @@ public class DialogAbout extends JDialog {
 	protected int x1, y1;
 
 	/**
-	 * ڷLogo
+	 * 摆放Logo
 	 */
 	protected void placeLogo() {
 		final int LABEL1_WIDTH = getTopLabel1Width();
@@ -288,7 +288,7 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * ڷųLogo
+	 * 摆放长Logo
 	 */
 	protected void placeLongLogo() {
 		final int LABEL1_WIDTH = getTopLabel1Width();
@@ -311,7 +311,7 @@ public class DialogAbout extends JDialog {
 	protected final Font URL_FONT = new Font("Comic Sans MS", 2, 13);
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @param product
 	 * @throws Exception
@@ -346,7 +346,7 @@ public class DialogAbout extends JDialog {
 
 		jBClose.setDoubleBuffered(false);
 		jBClose.setMnemonic('C');
-		jBClose.setText("ر(C)");
+		jBClose.setText("关闭(C)");
 
 		jBClose.addActionListener(new DialogAbout_jBClose_actionAdapter(this));
 		jLWebsite.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
@@ -382,7 +382,7 @@ public class DialogAbout extends JDialog {
 		this.getContentPane().setLayout(new BorderLayout());
 		this.addWindowListener(new DialogAbout_this_windowAdapter(this));
 		jBJDK.setMnemonic('K');
-		jBJDK.setText("JDK");
+		jBJDK.setText("JDK环境");
 		jBJDK.addActionListener(new DialogAbout_jBJDK_actionAdapter(this));
 
 		jLCompanyName.setForeground(SystemColor.textHighlight);
@@ -447,7 +447,7 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * رհť
+	 * 关闭按钮命令
 	 * 
 	 * @param e
 	 */
@@ -456,7 +456,7 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * HTTP
+	 * 鼠标点击HTTP
 	 * 
 	 * @param e
 	 */
@@ -473,7 +473,7 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * 绰
+	 * 鼠标点击电话号
 	 * 
 	 * @param e
 	 */
@@ -486,7 +486,7 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * JDKť
+	 * JDK按钮命令
 	 * 
 	 * @param e
 	 */
@@ -500,7 +500,7 @@ public class DialogAbout extends JDialog {
 	}
 
 	/**
-	 * ڹر
+	 * 窗口关闭
 	 * 
 	 * @param e
 	 */
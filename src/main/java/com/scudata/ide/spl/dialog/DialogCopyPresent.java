@@ -32,7 +32,7 @@ import com.scudata.ide.spl.GVSpl;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ƿɳִԻ
+ * 复制可呈现代码对话框
  *
  */
 public class DialogCopyPresent extends RQDialog {
@@ -40,7 +40,7 @@ public class DialogCopyPresent extends RQDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogCopyPresent() {
 		super("Copy code for presentation", 600, 500);
@@ -53,9 +53,9 @@ public class DialogCopyPresent extends RQDialog {
 	}
 
 	/**
-	 * ѡ
+	 * 保存选项
 	 * 
-	 * @param showException Ƿ쳣
+	 * @param showException 是否抛异常
 	 * @return
 	 */
 	private boolean saveOption(boolean showException) {
@@ -64,7 +64,7 @@ public class DialogCopyPresent extends RQDialog {
 			String sep = getSep();
 			if (sep == null || "".equals(sep)) {
 				if (showException)
-					// 붨зָ
+					// 请定义列分隔符。
 					JOptionPane.showMessageDialog(this, mm.getMessage("dialogcopypresent.emptycolsep"));
 				return false;
 			}
@@ -76,7 +76,7 @@ public class DialogCopyPresent extends RQDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 */
 	protected boolean okAction(ActionEvent e) {
 		if (!saveOption(true)) {
@@ -87,7 +87,7 @@ public class DialogCopyPresent extends RQDialog {
 	}
 
 	/**
-	 * رնԻ
+	 * 关闭对话框
 	 */
 	protected void closeDialog(int option) {
 		super.closeDialog(option);
@@ -96,7 +96,7 @@ public class DialogCopyPresent extends RQDialog {
 	}
 
 	/**
-	 * ȡָ
+	 * 取分隔符
 	 * 
 	 * @return
 	 */
@@ -114,7 +114,7 @@ public class DialogCopyPresent extends RQDialog {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		panelCenter.setLayout(new GridBagLayout());
@@ -157,7 +157,7 @@ public class DialogCopyPresent extends RQDialog {
 		jTAPreview.setEditable(false);
 		jTAPreview.setCodeFoldingEnabled(true);
 		jTAPreview.setFont(GC.font);
-		// Ԫʽ
+		// 单元格表达式
 		jTAPreview.setToolTipText(mm.getMessage("toolbarproperty.cellexp"));
 		jTAPreview.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_SQL);
 		jCBLineWrap.setSelected(ConfigOptions.bTextEditorLineWrap.booleanValue());
@@ -166,7 +166,7 @@ public class DialogCopyPresent extends RQDialog {
 		jCBType.x_setSelectedCodeItem(ConfigOptions.iCopyPresentType);
 		jCBHeader.setSelected(ConfigOptions.bCopyPresentHeader);
 		jCBSep.setSelectedItem(ConfigOptions.sCopyPresentSep);
-		// ƿɳִ
+		// 复制可呈现代码
 		setTitle(mm.getMessage("dialogcopypresent.title"));
 		this.setResizable(true);
 		jCBType.addActionListener(new ActionListener() {
@@ -231,7 +231,7 @@ public class DialogCopyPresent extends RQDialog {
 	}
 
 	/**
-	 * ʾ
+	 * 显示
 	 */
 	private void preview() {
 		if (!saveOption(false)) {
@@ -242,7 +242,7 @@ public class DialogCopyPresent extends RQDialog {
 	}
 
 	/**
-	 * ͷ仯
+	 * 类型发生变化
 	 */
 	private void typeChanged() {
 		boolean sepEnabled = ((Number) jCBType.x_getSelectedItem()).byteValue() == ConfigOptions.COPY_TEXT;
@@ -250,47 +250,47 @@ public class DialogCopyPresent extends RQDialog {
 		jCBSep.setEnabled(sepEnabled);
 	}
 
-	/** ֵ */
+	/** 代码值 */
 	private Vector<Object> codes = new Vector<Object>();
-	/** ʾֵ */
+	/** 显示值 */
 	private Vector<String> disps = new Vector<String>();
-	/** Դ */
+	/** 集算器资源管理器 */
 	private MessageManager mm = IdeSplMessage.get();
 	/**
-	 * 
+	 * 复制类型
 	 */
 	private JLabel jLType = new JLabel(mm.getMessage("dialogcopypresent.type"));
 	/** HTML */
 	private final String LABEL_HTML = "HTML";
-	/** ı */
+	/** 文本 */
 	private final String LABEL_TEXT = mm.getMessage("dialogcopypresent.text");
-	/** Ϳؼ */
+	/** 类型控件 */
 	private JComboBoxEx jCBType = new JComboBoxEx();
-	/** Ƿкſؼ */
+	/** 是否复制行列号控件 */
 	private JCheckBox jCBHeader = new JCheckBox(mm.getMessage("dialogcopypresent.copyheader"));
-	/** зָ */
+	/** 列分隔符 */
 	private JLabel jLSep = new JLabel(mm.getMessage("dialogcopypresent.colsep"));
 
-	/** ֵ */
+	/** 代码值 */
 	private final String TAB = "\t";
 	private final String SPACE = "    ";
 	private final String CSV = ",";
-	/** ʾֵ */
+	/** 显示值 */
 	private final String LABEL_TAB = "TAB";
 	private final String LABEL_SPACE = mm.getMessage("dialogcopypresent.space");
 	private final String LABEL_CSV = ",";
 
 	/**
-	 * ָؼ
+	 * 分隔符控件
 	 */
 	private JComboBoxEx jCBSep = new JComboBoxEx();
 
 	/**
-	 * Ԥ
+	 * 预览
 	 */
 	private JLabel jLPreview = new JLabel(mm.getMessage("dialogcopypresent.preview"));
 	/**
-	 * Ԥıؼ
+	 * 预览的文本控件
 	 */
 	protected RSyntaxTextArea jTAPreview = new RSyntaxTextArea() {
 		private static final long serialVersionUID = 1L;
@@ -304,11 +304,11 @@ public class DialogCopyPresent extends RQDialog {
 		}
 	};
 	/**
-	 * Ԥ
+	 * 预览滚动面板
 	 */
 	protected RTextScrollPane jSPPreview = new RTextScrollPane(jTAPreview);
 	/**
-	 * ǷԶ
+	 * 是否自动换行
 	 */
 	private JCheckBox jCBLineWrap = new JCheckBox(mm.getMessage("dialogtexteditor.linewrap"));
 }
@@ -67,8 +67,8 @@ import com.scudata.ide.spl.resources.ChartMessage;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ѾõͼϢ
- * ʾΪͳͼ
+ * 将画布对象或者已经画好的图像信息
+ * 显示为统计图
  * @author Joancy
  *
  */
@@ -87,18 +87,18 @@ public class DialogDisplayChart extends JDialog {
 	private Component imageDisplay;
 	private JButton close, saveAs, copy;
 
-	private JLabel labelGraphType = new JLabel("ͼ");
+	private JLabel labelGraphType = new JLabel("图类型");
 	private JComboBoxGraph cbGraphType = new JComboBoxGraph();
-	private JLabel labelCategory = new JLabel("ֶ");
+	private JLabel labelCategory = new JLabel("分类字段");
 	private JComboBox<String> cbCategory = new JComboBox<String>();
-	private JLabel labelSeries = new JLabel("ϵֶ");
+	private JLabel labelSeries = new JLabel("系列字段");
 	private JComboBox<String> cbSeries = new JComboBox<String>();
-	private JLabel labelValue = new JLabel("ֵֶ");
+	private JLabel labelValue = new JLabel("数值字段");
 	private JComboBox<String> cbValue = new JComboBox<String>();
-	private JLabel labelAccumulate = new JLabel("ۺϺ");
+	private JLabel labelAccumulate = new JLabel("聚合函数");
 	private JComboBoxEx cbAccumulate = new JComboBoxEx();
 	
-	private JButton settings = new JButton("");
+	private JButton settings = new JButton("设置");
 	private Table data = null;
 	int sliderScale = 1;
 	private HashMap<String,Object> properties = new HashMap<String,Object>();
@@ -106,20 +106,20 @@ public class DialogDisplayChart extends JDialog {
 	MessageManager splMM = IdeSplMessage.get();
 	MessageManager mm = ChartMessage.get();
 	
-	/****************************/
-	private JLabel labelFrameCount = new JLabel("֡");
+	/************动画****************/
+	private JLabel labelFrameCount = new JLabel("动画帧数");
 	int defCount = 24;
 	private JSpinner spFrameCount = new JSpinner(new SpinnerNumberModel(defCount,2, 10240, 1));
-	private JLabel labelFrameDelay = new JLabel("֡ʱ()");
+	private JLabel labelFrameDelay = new JLabel("帧间延时(毫秒)");
 	private JSpinner spFrameDelay = new JSpinner(new SpinnerNumberModel(100,10, 10000, 10));
-	private JCheckBox cbLoop = new JCheckBox("ѭ");
+	private JCheckBox cbLoop = new JCheckBox("循环");
 	JSlider slider = new JSlider( JSlider.HORIZONTAL,1,defCount,1 );
-	private JButton play= new JButton("");
+	private JButton play= new JButton("播放");
 	boolean stop = false;
 	
 	/**
-	 * 캯
-	 * @param imageBytes ͼ
+	 * 构造函数
+	 * @param imageBytes 图像数据
 	 */
 	public DialogDisplayChart(byte[] imageBytes) {
 		super(GV.appFrame, "Chart Display", true);
@@ -162,8 +162,8 @@ public class DialogDisplayChart extends JDialog {
 	}
 	
 	/**
-	 * 캯
-	 * @param data ݱ
+	 * 构造函数
+	 * @param data 数据表
 	 */
 	public DialogDisplayChart(Table data) {
 		super(GV.appFrame, "Chart Display", true);
@@ -194,10 +194,10 @@ public class DialogDisplayChart extends JDialog {
 		if (!copy.isEnabled()) {
 			svgTip = splMM.getMessage("dialogdisplaychart.svgtip");
 		}
-		setTitle(splMM.getMessage("dialogdisplaychart.title", svgTip)); // ͼԤ
-		close.setText(splMM.getMessage("button.close")); // ر
-		saveAs.setText(splMM.getMessage("button.saveas")); // Ϊ
-		copy.setText(splMM.getMessage("button.copy")); // 
+		setTitle(splMM.getMessage("dialogdisplaychart.title", svgTip)); // 图形预览
+		close.setText(splMM.getMessage("button.close")); // 关闭
+		saveAs.setText(splMM.getMessage("button.saveas")); // 另存为
+		copy.setText(splMM.getMessage("button.copy")); // 复制
 		labelGraphType.setText(splMM.getMessage("dialogdisplaychart.graphType"));
 		labelCategory.setText(splMM.getMessage("dialogdisplaychart.category"));
 		labelSeries.setText(splMM.getMessage("dialogdisplaychart.series"));
@@ -212,8 +212,8 @@ public class DialogDisplayChart extends JDialog {
 	}
 
 	/**
-	 * ȡͼ
-	 * @return 
+	 * 获取图形名称
+	 * @return 名称
 	 */
 	public String getGraphName() {
 		byte graphType = cbGraphType.getValue();
@@ -241,16 +241,16 @@ public class DialogDisplayChart extends JDialog {
 	}
 	
 	/**
-	 * ȡӳ
-	 * @return ֵӳ
+	 * 获取属性映射表
+	 * @return 属性值映射表
 	 */
 	public HashMap<String,Object> getProperties(){
 		return properties;
 	}
 	
 	/**
-	 * ֵӳ
-	 * @param properties ֵ
+	 * 设置属性值映射表
+	 * @param properties 属性值
 	 */
 	public void setProperties(HashMap<String,Object> properties){
 		this.properties = properties;
@@ -382,7 +382,7 @@ public class DialogDisplayChart extends JDialog {
 			}
 			return centerLabel;
 		}
-		// SVGʱûкʵĻȡߵԣֻܻƹ̶800*600
+		// SVG画板暂时没有合适的获取宽高的属性，故只能绘制固定800*600区域。
 		JSVGCanvas svgCanvas = new JSVGCanvas();
 
 		SVGDocumentFactory factory = new SAXSVGDocumentFactory(null);
@@ -665,7 +665,7 @@ public class DialogDisplayChart extends JDialog {
 	}
 	
 	private String getAccumulateExp(){
-		//鵱ǰķ࣬ϵֶεֵǷΨһΨһĻҪۺͳ
+		//检查当前的分类，系列字段的值是否唯一，不唯一的话，需要聚合统计
 		String sCategory = (String)cbCategory.getSelectedItem();
 		if(sCategory==null){
 			return null;
@@ -746,19 +746,19 @@ public class DialogDisplayChart extends JDialog {
 			this.setSize(w, h);
 		} else {
 			this.setSize(800, 600);
-			copy.setEnabled(false);// svgͼƬָ֧
+			copy.setEnabled(false);// svg图片不支持复制
 		}
 
 		resetLangText();
 		GM.setDialogDefaultButton(this, close, close);
-		if(data!=null){//ֱݱͼʱ߿ճô
+		if(data!=null){//直接用数据表绘图时，往左边空出属性设置窗口
 			setLocation(getX()-200, getY());
 		}
 	}
 
 	/**
-	 * ͼݸƵϵͳ
-	 * @param image ͼ
+	 * 将图像数据复制到系统剪贴板
+	 * @param image 图像
 	 */
 	public static void setClipboardImage(final Image image) {
 		Transferable trans = new Transferable() {
@@ -34,14 +34,14 @@ import com.scudata.ide.spl.SPL;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ִԻ
+ * 在命令行执行网格对话框
  *
  */
 public class DialogExecCmd extends RQDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogExecCmd() {
 		super(IdeSplMessage.get().getMessage("dialogexeccmd.title"), 400, 300);
@@ -54,7 +54,7 @@ public class DialogExecCmd extends RQDialog {
 	}
 
 	/**
-	 * splļ
+	 * 设置spl文件名
 	 * 
 	 * @param splFile
 	 */
@@ -64,19 +64,19 @@ public class DialogExecCmd extends RQDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 */
 	protected boolean okAction(ActionEvent e) {
 		String splFile = textSpl.getText();
 		if (!StringUtils.isValidString(splFile)) {
-			// ѡҪִеSPLļ
+			// 请选择要执行的SPL文件。
 			JOptionPane.showMessageDialog(GV.appFrame, IdeSplMessage.get()
 					.getMessage("dialogexeccmd.emptydfx"));
 			return false;
 		}
 		final File f = new File(splFile);
 		if (!f.isFile() || !f.exists()) {
-			// ļ{0}ڡ
+			// 文件：{0}不存在。
 			JOptionPane.showMessageDialog(GV.appFrame, IdeSplMessage.get()
 					.getMessage("dialogexeccmd.dfxnotexist", splFile));
 			return false;
@@ -84,7 +84,7 @@ public class DialogExecCmd extends RQDialog {
 		String startHome = System.getProperty("start.home");
 		File binDir = new File(startHome, "bin");
 		if (!binDir.exists() || !binDir.isDirectory()) {
-			// Ŀ¼{0}ڡ
+			// 目录：{0}不存在。
 			JOptionPane.showMessageDialog(
 					GV.appFrame,
 					IdeSplMessage.get().getMessage("dialogexeccmd.binnotexist",
@@ -99,7 +99,7 @@ public class DialogExecCmd extends RQDialog {
 		}
 		final File exeFile = new File(binDir, "esprocx." + suffix);
 		if (!exeFile.isFile() || !exeFile.exists()) {
-			// ִļ{0}ڡ
+			// 可执行文件：{0}不存在。
 			JOptionPane.showMessageDialog(
 					GV.appFrame,
 					IdeSplMessage.get().getMessage("dialogexeccmd.exenotexist",
@@ -181,11 +181,11 @@ public class DialogExecCmd extends RQDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 */
 	private void init() {
 		JPanel panelNorth = new JPanel(new GridBagLayout());
-		// SPLļ
+		// SPL文件
 		panelNorth.add(
 				new JLabel(IdeSplMessage.get().getMessage(
 						"dialogexeccmd.dfxfile")), GM.getGBC(0, 0));
@@ -193,7 +193,7 @@ public class DialogExecCmd extends RQDialog {
 		panelNorth.add(buttonFile, GM.getGBC(0, 2));
 		panelCenter.add(panelNorth, BorderLayout.NORTH);
 		JPanel panelParam = new JPanel(new GridBagLayout());
-		// 
+		// 网格参数
 		panelParam.add(
 				new JLabel(IdeSplMessage.get().getMessage(
 						"dialogexeccmd.dfxparam")), GM.getGBC(0, 0));
@@ -202,7 +202,7 @@ public class DialogExecCmd extends RQDialog {
 		panelCenter.add(panelParam, BorderLayout.CENTER);
 		buttonFile.setIcon(GM.getMenuImageIcon(GC.OPEN));
 		buttonFile.setToolTipText(IdeSplMessage.get().getMessage(
-				"dialogexeccmd.openfile")); // ļ
+				"dialogexeccmd.openfile")); // 打开文件
 		buttonFile.addActionListener(new ActionListener() {
 
 			public void actionPerformed(ActionEvent e) {
@@ -226,7 +226,7 @@ public class DialogExecCmd extends RQDialog {
 	}
 
 	/**
-	 * ļ
+	 * 加载文件
 	 */
 	private void loadFile() {
 		paramTable.acceptText();
@@ -255,24 +255,24 @@ public class DialogExecCmd extends RQDialog {
 	}
 
 	/**
-	 * splļ༭
+	 * spl文件编辑框
 	 */
 	private JTextField textSpl = new JTextField();
 	/**
-	 * ѡsplļť
+	 * 选择spl文件按钮
 	 */
 	private JButton buttonFile = new JButton();
-	/** ˵ */
+	/** 参数名或中文说明列 */
 	private final int COL_DISP = 0;
-	/** ֵ */
+	/** 参数值列 */
 	private final int COL_VALUE = 1;
-	/** ˵ */
+	/** 参数名或中文说明 */
 	private final String TITLE_DISP = IdeSplMessage.get().getMessage(
 			"dialogexeccmd.name");
-	/** ֵ */
+	/** 参数值 */
 	private final String TITLE_VALUE = IdeSplMessage.get().getMessage(
 			"dialogexeccmd.value");
-	/** ؼ */
+	/** 参数表格控件 */
 	private JTableEx paramTable = new JTableEx(new String[] { TITLE_DISP,
 			TITLE_VALUE }) {
 
@@ -41,64 +41,64 @@ import com.scudata.ide.spl.resources.IdeSplMessage;
 import com.scudata.resources.AppMessage;
 
 /**
- * ⲿöԻ
+ * 外部库设置对话框
  *
  */
 public class DialogExtLibs extends JDialog implements ActionListener {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	private MessageManager mm = IdeSplMessage.get();
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * ⲿ·༭
+	 * 外部库路径编辑框
 	 */
 	private JTextField jTFExtLibsPath = new JTextField();
 	/**
-	 * ⲿ·ѡť
+	 * 外部库路径选择按钮
 	 */
 	private JButton jBExtLibsPath = new JButton();
 	/**
-	 * ⲿؼ
+	 * 外部库表滚动面板控件
 	 */
 	private TableExtLibs tableNames;
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 	/**
-	 * Ѿڵⲿб
+	 * 已经存在的外部库名称列表
 	 */
 	private Vector<String> existNames = new Vector<String>();
 	/**
-	 * ⲿĿ¼б
+	 * 外部库目录名称列表
 	 */
 	private Vector<String> dirNames = new Vector<String>();
 
 	/**
-	 * 
+	 * 父组件
 	 */
 	private Frame parent;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param config
-	 *            
+	 *            集算器配置
 	 * @param frame
-	 *            
+	 *            父窗口
 	 * @param extLibsPath
-	 *            ⲿ·
+	 *            外部库根路径
 	 * @param extLibs
-	 *            õⲿб
+	 *            配置的外部库列表
 	 */
 	public DialogExtLibs(RaqsoftConfig config, Frame frame, String extLibsPath,
 			List<String> extLibs) {
@@ -109,16 +109,16 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
 	 * @param config
-	 *            
+	 *            集算器配置
 	 * @param jdialog
-	 *            
+	 *            父窗口
 	 * @param extLibsPath
-	 *            ⲿ·
+	 *            外部库根路径
 	 * @param extLibs
-	 *            õⲿб
+	 *            配置的外部库列表
 	 */
 	public DialogExtLibs(RaqsoftConfig config, JDialog jdialog,
 			String extLibsPath, List<String> extLibs) {
@@ -128,7 +128,7 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ʼԻ
+	 * 初始化对话框
 	 * 
 	 * @param config
 	 * @param extLibsPath
@@ -150,7 +150,7 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -159,7 +159,7 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ȡⲿĸĿ¼
+	 * 取外部库的根目录
 	 * 
 	 * @return
 	 */
@@ -168,7 +168,7 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ⲿб
+	 * 外部库列表
 	 * 
 	 * @return
 	 */
@@ -184,7 +184,7 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ϴģʽ
+	 * 上传模式
 	 */
 	private boolean isUploadMode = false;
 
@@ -193,14 +193,14 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ⲿ
+	 * 设置外部库配置
 	 * 
 	 * @param config
-	 *            
+	 *            集算器配置
 	 * @param extLibsPath
-	 *            ⲿĿ¼
+	 *            外部库根目录
 	 * @param extLibs
-	 *            ⲿб
+	 *            外部库列表
 	 */
 	private void setConfig(RaqsoftConfig config, String extLibsPath,
 			List<String> extLibs) {
@@ -212,7 +212,7 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ⲿĿ¼
+	 * 设置外部库根目录
 	 * 
 	 * @param showException
 	 */
@@ -242,7 +242,7 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 						dirNames.add(sd.getName());
 					}
 				}
-				// Ŀ¼µjarѾڸĿ¼عﲻ
+				// 根目录下的jar已经在根目录加载过，这里不处理了
 			}
 		}
 		int existSize = existNames.size();
@@ -258,7 +258,7 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * Ƿⲿ
+	 * 是否外部库
 	 * 
 	 * @param dir
 	 * @return
@@ -299,17 +299,17 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * Դ
+	 * 重置语言资源
 	 */
 	private void resetText() {
-		jBOK.setText(mm.getMessage("button.ok")); // ȷ(O)
-		jBCancel.setText(mm.getMessage("button.cancel")); // ȡ(C)
+		jBOK.setText(mm.getMessage("button.ok")); // 确定(O)
+		jBCancel.setText(mm.getMessage("button.cancel")); // 取消(C)
 		jBExtLibsPath.setText(IdeCommonMessage.get().getMessage(
-				"dialogoptions.select")); // ѡ
+				"dialogoptions.select")); // 选择
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 */
 	private void init() {
 		this.getContentPane().setLayout(new BorderLayout());
@@ -322,9 +322,9 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 		panelEast.add(jBCancel);
 		jBOK.addActionListener(this);
 		jBCancel.addActionListener(this);
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.setMnemonic('O');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.setMnemonic('C');
 		this.getContentPane().add(panelEast, BorderLayout.EAST);
 		JPanel panelNorth = new JPanel(new GridBagLayout());
@@ -377,7 +377,7 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * رմ
+	 * 关闭窗口
 	 */
 	private void close() {
 		GM.setWindowDimension(this);
@@ -385,7 +385,7 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ť¼
+	 * 按钮事件
 	 */
 	public void actionPerformed(ActionEvent e) {
 		Object c = e.getSource();
@@ -397,13 +397,13 @@ public class DialogExtLibs extends JDialog implements ActionListener {
 				String path = getExtLibsPath();
 				if (!StringUtils.isValidString(path)) {
 					JOptionPane.showMessageDialog(parent,
-							mm.getMessage("dialogextlibs.emptypath")); // ѡⲿĿ¼
+							mm.getMessage("dialogextlibs.emptypath")); // 请选择外部库目录。
 					return;
 				}
 				List<String> libs = getExtLibs();
 				if (libs == null || libs.isEmpty()) {
 					JOptionPane.showMessageDialog(parent,
-							mm.getMessage("dialogextlibs.emptylib")); // ѡⲿ⡣
+							mm.getMessage("dialogextlibs.emptylib")); // 请选择外部库。
 					return;
 				}
 			}
@@ -36,33 +36,33 @@ import com.scudata.ide.common.swing.VFlowLayout;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ϴFTPԻ
+ * 上传到FTP对话框
  *
  */
 public class DialogFTP extends JDialog implements ActionListener {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * Դ
+	 * 集算器语言资源
 	 */
 	private MessageManager mm = IdeSplMessage.get();
 	/**
-	 * 水ť
+	 * 保存按钮
 	 */
 	private JButton jBSave = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * ť
+	 * 管理按钮
 	 */
 	private JButton jBManage = new JButton();
 
 	/**
-	 * ؼ
+	 * 主机表控件
 	 */
 	private TableSelectName tableHost = new TableSelectName(
-			mm.getMessage("dialoguploadresult.hostname")) {// 
+			mm.getMessage("dialoguploadresult.hostname")) {// 主机名
 		private static final long serialVersionUID = 1L;
 
 		public void doubleClick(int row, int col) {
@@ -72,40 +72,40 @@ public class DialogFTP extends JDialog implements ActionListener {
 	};
 
 	/**
-	 * ASCIIؼ
+	 * ASCII控件
 	 */
 	private JRadioButton jRBAsc = new JRadioButton();
 	/**
-	 * ƿؼ
+	 * 二进制控件
 	 */
 	private JRadioButton jRBBinary = new JRadioButton();
 
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CLOSED_OPTION;
 	/**
-	 * ǷͰ汾JDK1.7£
+	 * 是否低版本JDK（1.7以下）
 	 */
 	private boolean isLowVersionJDK = false;
 	/**
-	 * FTPϢб
+	 * FTP服务信息列表
 	 */
 	private FTPInfo[] ftpInfos = null;
 	/**
-	 * FTPͻ˶
+	 * FTP服务客户端对象
 	 */
 	private FtpClient ftpClient = null;
 	/**
-	 * ļ·
+	 * 文件路径
 	 */
 	private String filePath;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogFTP() {
-		super(GV.appFrame, "浽FTP", true);
+		super(GV.appFrame, "保存到FTP", true);
 		try {
 
 			String javaVersion = System.getProperty("java.version");
@@ -123,17 +123,17 @@ public class DialogFTP extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ļ·
+	 * 设置文件路径
 	 * 
 	 * @param filePath
-	 *            ļ·
+	 *            文件路径
 	 */
 	public void setFilePath(String filePath) {
 		this.filePath = filePath;
 	}
 
 	/**
-	 * FTPϢ
+	 * 加载FTP服务信息
 	 */
 	private void loadFTPInfo() {
 		try {
@@ -145,7 +145,7 @@ public class DialogFTP extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * FTPϢ
+	 * 设置FTP服务信息
 	 */
 	private void setFTPInfo() {
 		if (ftpInfos != null && ftpInfos.length > 0) {
@@ -163,7 +163,7 @@ public class DialogFTP extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * FTPϢ
+	 * 保存FTP服务信息
 	 */
 	private void saveFTPInfo() {
 		if (ftpInfos != null) {
@@ -183,18 +183,18 @@ public class DialogFTP extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetText() {
 		jBSave.setText(mm.getMessage("button.save"));
 		jBCancel.setText(mm.getMessage("button.cancel"));
-		setTitle(mm.getMessage("dialogftp.title")); // 浽FTP
-		jBManage.setText(mm.getMessage("dialogftp.manager")); // (M)
-		jRBBinary.setText(mm.getMessage("dialogftp.binary")); // 
+		setTitle(mm.getMessage("dialogftp.title")); // 保存到FTP
+		jBManage.setText(mm.getMessage("dialogftp.manager")); // 主机管理(M)
+		jRBBinary.setText(mm.getMessage("dialogftp.binary")); // 二进制
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -203,14 +203,14 @@ public class DialogFTP extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * 
+	 * 保存
 	 */
 	private void save() {
 		if (ftpInfos == null)
 			return;
 		int[] indexes = tableHost.getSelectedIndexes();
 		if (indexes == null || indexes.length == 0) {
-			// ѡҪ浽
+			// 请选择要保存到的主机。
 			JOptionPane.showMessageDialog(GV.appFrame,
 					mm.getMessage("dialogftp.savetohost"));
 			return;
@@ -228,8 +228,8 @@ public class DialogFTP extends JDialog implements ActionListener {
 				String password = ftpInfo.getPassword();
 				Class clz = Class.forName("sun.net.ftp.FtpClient");
 				Method m;
-				// JDK汾жʹ׽ӿ
-				if (isLowVersionJDK) { // 1.7
+				// 根据JDK版本判断使用哪套接口
+				if (isLowVersionJDK) { // 1.7以下
 					Constructor declaredConstructor = clz
 							.getDeclaredConstructor();
 					ftpClient = (FtpClient) declaredConstructor.newInstance();
@@ -257,7 +257,7 @@ public class DialogFTP extends JDialog implements ActionListener {
 					// } else if (jRBBinary.isSelected()) {
 					// ftpClient.binary();
 					// }
-				} else { // 1.7ϰ汾
+				} else { // 1.7和以上版本
 					SocketAddress addr = new InetSocketAddress(host, port);
 					m = clz.getMethod("create");
 					ftpClient = (FtpClient) m.invoke(clz);
@@ -292,7 +292,7 @@ public class DialogFTP extends JDialog implements ActionListener {
 			try {
 				Class clz = Class.forName("sun.net.ftp.FtpClient");
 				Method m;
-				// JDK汾жʹ׽ӿ
+				// 根据JDK版本判断使用哪套接口
 				if (isLowVersionJDK) {
 					m = clz.getMethod("closeServer");
 					m.invoke(ftpClient);
@@ -311,7 +311,7 @@ public class DialogFTP extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ϴļ
+	 * 上传文件
 	 * 
 	 * @throws Exception
 	 */
@@ -323,7 +323,7 @@ public class DialogFTP extends JDialog implements ActionListener {
 			fis = new FileInputStream(filePath);
 			Class clz = Class.forName("sun.net.ftp.FtpClient");
 			Method m;
-			// JDK汾жʹ׽ӿ
+			// 根据JDK版本判断使用哪套接口
 			if (isLowVersionJDK) {
 				m = clz.getMethod("put", String.class);
 				tos = (OutputStream) m.invoke(ftpClient, file.getName());
@@ -348,24 +348,24 @@ public class DialogFTP extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
 	private void init() throws Exception {
 		JPanel panelEast = new JPanel(new VFlowLayout());
 		jBSave.setMnemonic('S');
-		jBSave.setText("(S)");
+		jBSave.setText("保存(S)");
 		jBSave.addActionListener(this);
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(this);
 		jBManage.setMnemonic('M');
-		jBManage.setText("(M)"); // (M)
+		jBManage.setText("主机管理(M)"); // 主机管理(M)
 		jBManage.addActionListener(this);
-		JLabel labelOpt = new JLabel(mm.getMessage("dialogftp.sendtype")); // ͣ
+		JLabel labelOpt = new JLabel(mm.getMessage("dialogftp.sendtype")); // 发送类型：
 		jRBAsc.setText("ASCII");
-		jRBBinary.setText("");
+		jRBBinary.setText("二进制");
 		ButtonGroup bgOpt = new ButtonGroup();
 		bgOpt.add(jRBAsc);
 		bgOpt.add(jRBBinary);
@@ -386,7 +386,7 @@ public class DialogFTP extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -397,7 +397,7 @@ public class DialogFTP extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ؼ¼
+	 * 控件事件
 	 */
 	public void actionPerformed(ActionEvent e) {
 		Object src = e.getSource();
@@ -413,7 +413,7 @@ public class DialogFTP extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * Ի
+	 * 主机管理对话框
 	 */
 	private void hostManager() {
 		DialogHostManager dhm = new DialogHostManager();
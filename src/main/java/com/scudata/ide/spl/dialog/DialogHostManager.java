@@ -26,72 +26,72 @@ import com.scudata.ide.common.swing.VFlowLayout;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * Ի
+ * 主机管理对话框
  *
  */
 public class DialogHostManager extends JDialog implements ActionListener {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * Թ
+	 * 集算器语言管理
 	 */
 	private MessageManager mm = IdeSplMessage.get();
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * Ӱť
+	 * 增加按钮
 	 */
 	private JButton jBAdd = new JButton();
 	/**
-	 * ɾť
+	 * 删除按钮
 	 */
 	private JButton jBDelete = new JButton();
 	/**
-	 * ưť
+	 * 上移按钮
 	 */
 	private JButton jBUp = new JButton();
 	/**
-	 * ưť
+	 * 下移按钮
 	 */
 	private JButton jBDown = new JButton();
 
-	/**  */
+	/** 序号列 */
 	private final int COL_INDEX = 0;
-	/**  */
+	/** 主机名列 */
 	private final int COL_HOST = 1;
-	/** ˿ */
+	/** 端口列 */
 	private final int COL_PORT = 2;
-	/** û */
+	/** 用户列 */
 	private final int COL_USER = 3;
-	/**  */
+	/** 密码列 */
 	private final int COL_PASSWORD = 4;
-	/** Ŀ¼ */
+	/** 目录列 */
 	private final int COL_DIRECTORY = 5;
-	/** ѡ */
+	/** 选出列 */
 	private final int COL_SELECTED = 6;
 
-	/**  */
+	/** 序号 */
 	private final String TITLE_INDEX = mm
 			.getMessage("dialoguploadresult.index");
-	/**  */
+	/** 主机名 */
 	private final String TITLE_HOST = mm
 			.getMessage("dialoguploadresult.hostname");
-	/** ˿ */
+	/** 端口 */
 	private final String TITLE_PORT = mm.getMessage("dialoghostmanager.port");
-	/** û */
+	/** 用户 */
 	private final String TITLE_USER = mm.getMessage("dialoguploadresult.user");
-	/**  */
+	/** 密码 */
 	private final String TITLE_PASSWORD = mm
 			.getMessage("dialoghostmanager.password");
-	/** Ŀ¼ */
+	/** 目录 */
 	private final String TITLE_DIRECTORY = mm
 			.getMessage("dialoghostmanager.dir");
-	/** TITLE_SELECTED */
+	/** TITLE_SELECTED隐藏列 */
 	private final String TITLE_SELECTED = "TITLE_SELECTED";
 	private JTableEx tableHost = new JTableEx(TITLE_INDEX + "," + TITLE_HOST
 			+ "," + TITLE_PORT + "," + TITLE_USER + "," + TITLE_PASSWORD + ","
@@ -111,15 +111,15 @@ public class DialogHostManager extends JDialog implements ActionListener {
 		}
 	};
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CLOSED_OPTION;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogHostManager() {
-		super(GV.appFrame, "FTP", true);
+		super(GV.appFrame, "FTP主机管理", true);
 		try {
 			init();
 			setSize(600, 300);
@@ -131,7 +131,7 @@ public class DialogHostManager extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ȡFTPϢб
+	 * 取FTP服务信息列表
 	 * 
 	 * @return
 	 */
@@ -163,10 +163,10 @@ public class DialogHostManager extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * FTPϢб
+	 * 设置FTP服务信息列表
 	 * 
 	 * @param ftpInfos
-	 *            FTPϢб
+	 *            FTP服务信息列表
 	 */
 	public void setFTPInfo(FTPInfo[] ftpInfos) {
 		if (ftpInfos == null || ftpInfos.length == 0)
@@ -187,20 +187,20 @@ public class DialogHostManager extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetText() {
-		setTitle(mm.getMessage("dialoghostmanager.title")); // FTP
+		setTitle(mm.getMessage("dialoghostmanager.title")); // FTP主机管理
 		jBOK.setText(mm.getMessage("button.ok"));
 		jBCancel.setText(mm.getMessage("button.cancel"));
 		jBAdd.setText(mm.getMessage("button.add"));
 		jBDelete.setText(mm.getMessage("button.delete"));
-		jBUp.setText(mm.getMessage("button.up"));// (U)
-		jBDown.setText(mm.getMessage("button.down"));// (W)
+		jBUp.setText(mm.getMessage("button.up"));// 上移(U)
+		jBDown.setText(mm.getMessage("button.down"));// 下移(W)
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -209,29 +209,29 @@ public class DialogHostManager extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
 	private void init() throws Exception {
 		JPanel panelEast = new JPanel(new VFlowLayout());
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(this);
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(this);
 		jBAdd.setMnemonic('A');
-		jBAdd.setText("(A)");
+		jBAdd.setText("增加(A)");
 		jBAdd.addActionListener(this);
 		jBDelete.setMnemonic('D');
-		jBDelete.setText("ɾ(D)");
+		jBDelete.setText("删除(D)");
 		jBDelete.addActionListener(this);
 		jBUp.setMnemonic('U');
-		jBUp.setText("(U)");
+		jBUp.setText("上移(U)");
 		jBUp.addActionListener(this);
 		jBDown.setMnemonic('W');
-		jBDown.setText("(W)");
+		jBDown.setText("下移(W)");
 		jBDown.addActionListener(this);
 		this.getContentPane().add(panelEast, BorderLayout.EAST);
 		panelEast.add(jBOK, null);
@@ -257,7 +257,7 @@ public class DialogHostManager extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -267,7 +267,7 @@ public class DialogHostManager extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ؼ¼
+	 * 控件事件
 	 */
 	public void actionPerformed(ActionEvent e) {
 		Object src = e.getSource();
@@ -289,7 +289,7 @@ public class DialogHostManager extends JDialog implements ActionListener {
 									.getMessage(
 											"dialoghostmanager.invalidport", i
 													+ 1 + ""));
-							// " + (i + 1) + "ж˿ڸʽȷӦΪ
+							// 第" + (i + 1) + "行端口格式不正确，应为整数。
 							return;
 						}
 					}
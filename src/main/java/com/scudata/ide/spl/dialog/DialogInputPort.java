@@ -32,7 +32,7 @@ import com.scudata.parallel.UnitContext;
 import com.scudata.server.http.HttpContext;
 
 /**
- * HTTPļô
+ * HTTP服务器的简单配置窗口
  * 
  * @author Joancy
  *
@@ -50,7 +50,7 @@ public class DialogInputPort extends JDialog {
 	JComboBox<String> cbHosts = new JComboBox<String>();
 	JSpinner jSPort = new JSpinner();
 
-	JLabel labelMaxLinks = new JLabel("");
+	JLabel labelMaxLinks = new JLabel("最大连接数");
 	JSpinner jSMaxLinks = new JSpinner();
 	JCheckBox cbAutoStart = new JCheckBox(IdeCommonMessage.get().getMessage(
 			"dialogodbcconfig.autostart"));
@@ -61,9 +61,9 @@ public class DialogInputPort extends JDialog {
 	JFrame parent;
 
 	/**
-	 * 캯
-	 * @param parent 
-	 * @param title 
+	 * 构造函数
+	 * @param parent 父窗体
+	 * @param title 标题
 	 */
 	public DialogInputPort(JFrame parent, String title) {
 		super(parent, title, true);
@@ -85,13 +85,13 @@ public class DialogInputPort extends JDialog {
 		lbHost.setText(IdeCommonMessage.get().getMessage(
 				"dialogjdbcconfig.host"));
 		labelMaxLinks.setText(IdeCommonMessage.get().getMessage(
-				"dialogoptions.maxlinks")); // 
-		jLabel1.setText(mm.getMessage("dialoginputport.inputport")); // ˿
+				"dialogoptions.maxlinks")); // 最大连接数
+		jLabel1.setText(mm.getMessage("dialoginputport.inputport")); // 端口
 	}
 
 	/**
-	 * ȡڶѡ
-	 * @return ѡ
+	 * 获取窗口动作选项
+	 * @return 选项
 	 */
 	public int getOption() {
 		return m_option;
@@ -135,14 +135,14 @@ public class DialogInputPort extends JDialog {
 		flowLayout1.setAlignment(FlowLayout.RIGHT);
 		jPanel1.setLayout(flowLayout1);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogInputPort_jBOK_actionAdapter(this));
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogInputPort_jBCancel_actionAdapter(
 				this));
 		jPanel2.setLayout(gridBagLayout1);
-		jLabel1.setText("˿");
+		jLabel1.setText("端口");
 		this.addWindowListener(new DialogInputPort_this_windowAdapter(this));
 		this.getContentPane().add(jPanel1, BorderLayout.SOUTH);
 		jPanel1.add(jBOK, null);
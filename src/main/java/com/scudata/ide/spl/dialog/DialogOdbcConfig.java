@@ -40,7 +40,7 @@ import com.scudata.server.odbc.OdbcContext;
 import com.scudata.server.odbc.OdbcContext.User;
 
 /**
- * ODBCý
+ * ODBC服务器设置界面
  * 
  * @author Joancy
  *
@@ -64,19 +64,19 @@ public class DialogOdbcConfig extends JDialog {
 			mm.getMessage("dialogodbcconfig.autostart"));
 
 	private JLabel labelTimeOut = new JLabel(
-			mm.getMessage("dialogunitconfig.temptimeout")); // ʱļʱ(Сʱ)
+			mm.getMessage("dialogunitconfig.temptimeout")); // 临时文件过期时间(小时)
 	private JSpinner jsTimeOut = new JSpinner(new SpinnerNumberModel(12, 0,
 			Integer.MAX_VALUE, 1));
 	private JLabel labelConTimeOut = new JLabel(
-			mm.getMessage("dialogjdbcconfig.contimeout")); // ӹʱ(Сʱ)
+			mm.getMessage("dialogjdbcconfig.contimeout")); // 连接过期时间(小时)
 	private JSpinner jsConTimeOut = new JSpinner(new SpinnerNumberModel(12, 0,
 			Integer.MAX_VALUE, 1));
 	private JLabel labelInterval = new JLabel(
-			mm.getMessage("dialogunitconfig.checkinterval")); // ڼ()
+			mm.getMessage("dialogunitconfig.checkinterval")); // 检查过期间隔(秒)
 	private JSpinner jSInterval = new JSpinner(new SpinnerNumberModel(0, 0,
 			Integer.MAX_VALUE, 1));
 	private JLabel labelConMax = new JLabel(
-			mm.getMessage("dialogjdbcconfig.conmax")); // 
+			mm.getMessage("dialogjdbcconfig.conmax")); // 最大连接数
 	private JSpinner jsConMax = new JSpinner(new SpinnerNumberModel(0, 0,
 			Integer.MAX_VALUE, 1));
 	private JLabel labelLog = new JLabel(
@@ -84,7 +84,7 @@ public class DialogOdbcConfig extends JDialog {
 
 	private final int COL_INDEX = 0;
 	private final int COL_PATH = 1;
-	private final String TITLE_INDEX = mm.getMessage("dialogunitconfig.index"); // 
+	private final String TITLE_INDEX = mm.getMessage("dialogunitconfig.index"); // 序号
 	private final String TITLE_PATH = mm.getMessage("dialogunitconfig.path");
 	private JLabel labelUser = new JLabel(
 			mm.getMessage("dialogjdbcconfig.userlist"));
@@ -103,9 +103,9 @@ public class DialogOdbcConfig extends JDialog {
 	JFrame parent;
 
 	/**
-	 * 캯
-	 * @param parent 
-	 * @param title ڱ
+	 * 构造函数
+	 * @param parent 父窗体
+	 * @param title 窗口标题
 	 */
 	public DialogOdbcConfig(JFrame parent, String title) {
 		super(parent, title, true);
@@ -122,8 +122,8 @@ public class DialogOdbcConfig extends JDialog {
 	}
 
 	/**
-	 * ȡڵĶѡ
-	 * @return ѡ
+	 * 获取窗口的动作选项
+	 * @return 选项
 	 */
 	public int getOption() {
 		return m_option;
@@ -201,11 +201,11 @@ public class DialogOdbcConfig extends JDialog {
 	}
 
 	/**
-	 * ڵļĬΪconfigĿ¼£·Ȼstart.homeµľ·
+	 * 节点机文件默认为config目录下；先找类路径，然后找start.home下的绝对路径
 	 * 
 	 * @param relativePath 
-	 *            String ·
-	 * @throws Exception ļ
+	 *            String 相对路径
+	 * @throws Exception 文件输入流
 	 * @return InputStream
 	 */
 	private InputStream getUnitInputStream(String relativePath)
@@ -267,7 +267,7 @@ public class DialogOdbcConfig extends JDialog {
 	}
 
 	void resetLangText() {
-		// ѡ
+		// 选项
 		jBOK.setText(mm.getMessage("button.ok"));
 		jBCancel.setText(mm.getMessage("button.cancel"));
 	}
@@ -276,11 +276,11 @@ public class DialogOdbcConfig extends JDialog {
 		// Button
 		jPanelButton.setLayout(new VFlowLayout());
 		jBOK.setActionCommand("");
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogOdbcConfig_jBOK_actionAdapter(this));
 		jBOK.setMnemonic('O');
 		jBCancel.setActionCommand("");
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogOdbcConfig_jBCancel_actionAdapter(
 				this));
 		jBCancel.setMnemonic('C');
@@ -25,57 +25,57 @@ import com.scudata.ide.spl.control.SplEditor;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ѡճԻ
+ * 选项粘贴对话框
  *
  */
 public class DialogOptionPaste extends JDialog {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * ճǰĿ
+	 * 粘贴前目标区域动作
 	 */
 	private TitledBorder titledBorder1;
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CANCEL_OPTION;
 	/**
-	 * ʵ
+	 * 插入适当空列
 	 */
 	private JRadioButton jRBCol = new JRadioButton();
 	/**
-	 * ʵ
+	 * 插入适当空行
 	 */
 	private JRadioButton jRBRow = new JRadioButton();
 	/**
-	 * Ŀ
+	 * 目标区域格子下移
 	 */
 	private JRadioButton jRBBottom = new JRadioButton();
 	/**
-	 * Ŀ
+	 * 目标区域格子右移
 	 */
 	private JRadioButton jRBRight = new JRadioButton();
 	/**
-	 * ʽ
+	 * 调整表达式
 	 */
 	private JCheckBox jCBAdjust = new JCheckBox();
 	/**
-	 * Դ
+	 * 集算器语言资源管理器
 	 */
 	private MessageManager splMM = IdeSplMessage.get();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogOptionPaste() {
-		super(GV.appFrame, "ѡʽճ", true);
+		super(GV.appFrame, "选项式粘贴", true);
 		try {
 			initUI();
 			setSize(400, 250);
@@ -87,22 +87,22 @@ public class DialogOptionPaste extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
-		setTitle(splMM.getMessage("dialogoptionpaste.title")); // ѡʽճ
-		jBOK.setText(splMM.getMessage("button.ok")); // ȷ(O)
-		jBCancel.setText(splMM.getMessage("button.cancel")); // ȡ(C)
-		titledBorder1.setTitle(splMM.getMessage("dialogoptionpaste.titleborder1")); // ճǰĿ
-		jRBCol.setText(splMM.getMessage("dialogoptionpaste.insertcol")); // ʵ(L)
-		jRBRow.setText(splMM.getMessage("dialogoptionpaste.insertrow")); // ʵ(H)
-		jRBBottom.setText(splMM.getMessage("dialogoptionpaste.bottom")); // Ŀ(D)
-		jRBRight.setText(splMM.getMessage("dialogoptionpaste.right")); // Ŀ(R)
+		setTitle(splMM.getMessage("dialogoptionpaste.title")); // 选项式粘贴
+		jBOK.setText(splMM.getMessage("button.ok")); // 确定(O)
+		jBCancel.setText(splMM.getMessage("button.cancel")); // 取消(C)
+		titledBorder1.setTitle(splMM.getMessage("dialogoptionpaste.titleborder1")); // 粘贴前目标区域动作
+		jRBCol.setText(splMM.getMessage("dialogoptionpaste.insertcol")); // 插入适当空列(L)
+		jRBRow.setText(splMM.getMessage("dialogoptionpaste.insertrow")); // 插入适当空行(H)
+		jRBBottom.setText(splMM.getMessage("dialogoptionpaste.bottom")); // 目标区域格子下移(D)
+		jRBRight.setText(splMM.getMessage("dialogoptionpaste.right")); // 目标区域格子右移(R)
 		jCBAdjust.setText(splMM.getMessage("dialogoptionpaste.adjust"));
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -111,7 +111,7 @@ public class DialogOptionPaste extends JDialog {
 	}
 
 	/**
-	 * Ƿʽ
+	 * 是否调整表达式
 	 * 
 	 * @return
 	 */
@@ -120,7 +120,7 @@ public class DialogOptionPaste extends JDialog {
 	}
 
 	/**
-	 * ȡճѡ
+	 * 取粘贴选项
 	 * 
 	 * @return
 	 */
@@ -136,7 +136,7 @@ public class DialogOptionPaste extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -146,14 +146,14 @@ public class DialogOptionPaste extends JDialog {
 		VFlowLayout vFlowLayout1 = new VFlowLayout();
 		GridBagLayout gridBagLayout1 = new GridBagLayout();
 		titledBorder1 = new TitledBorder(BorderFactory.createEtchedBorder(Color.white, new Color(142, 142, 142)),
-				"ճǰĿ");
+				"粘贴前目标区域动作");
 		jPanel2.setLayout(vFlowLayout1);
 		jPanel1.setLayout(gridBagLayout1);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogOptionPaste_jBOK_actionAdapter(this));
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogOptionPaste_jBCancel_actionAdapter(this));
 		this.setDefaultCloseOperation(javax.swing.WindowConstants.DO_NOTHING_ON_CLOSE);
 		this.addWindowListener(new DialogOptionPaste_this_windowAdapter(this));
@@ -163,16 +163,16 @@ public class DialogOptionPaste extends JDialog {
 		jPOption.setBorder(titledBorder1);
 		jPOption.setLayout(VFlowLayout2);
 		jRBCol.setMnemonic('L');
-		jRBCol.setText("ʵ(L)");
+		jRBCol.setText("插入适当空列(L)");
 		jRBRow.setMinimumSize(new Dimension(120, 26));
 		jRBRow.setMnemonic('H');
-		jRBRow.setText("ʵ(H)");
+		jRBRow.setText("插入适当空行(H)");
 		jRBRow.setSelected(true);
 		jRBBottom.setMnemonic('D');
-		jRBBottom.setText("Ŀ(D)");
+		jRBBottom.setText("目标区域格子下移(D)");
 		jRBRight.setToolTipText("");
 		jRBRight.setMnemonic('R');
-		jRBRight.setText("Ŀ(R)");
+		jRBRight.setText("目标区域格子右移(R)");
 		JPanel panelCenter = new JPanel(new BorderLayout());
 		panelCenter.add(jPanel1, BorderLayout.CENTER);
 		JPanel panelAdjust = new JPanel(new GridBagLayout());
@@ -195,7 +195,7 @@ public class DialogOptionPaste extends JDialog {
 	}
 
 	/**
-	 * رմ
+	 * 关闭窗口
 	 */
 	private void close() {
 		GM.setWindowDimension(this);
@@ -203,7 +203,7 @@ public class DialogOptionPaste extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -212,7 +212,7 @@ public class DialogOptionPaste extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -222,7 +222,7 @@ public class DialogOptionPaste extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
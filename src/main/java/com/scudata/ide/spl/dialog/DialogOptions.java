@@ -56,362 +56,362 @@ import com.scudata.ide.spl.resources.IdeSplMessage;
 import com.scudata.parallel.UnitContext;
 
 /**
- * ѡ
+ * 集算器选项窗口
  *
  */
 public class DialogOptions extends JDialog {
 
 	private static final long serialVersionUID = 1L;
 	/**
-	 * Դ
+	 * 公共资源管理器
 	 */
 	public MessageManager mm = IdeCommonMessage.get();
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CLOSED_OPTION;
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton jBOK = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 
 	/**
-	 * ʽ
+	 * 界面样式下拉框
 	 */
 	private JComboBoxEx jCBLNF = new JComboBoxEx();
 
 	/**
-	 * ǷԶ
+	 * 是否自动备份
 	 */
 	private JCheckBox jCBAutoBackup = new JCheckBox();
 
 	/**
-	 * ǷԶԴѡ
+	 * 是否自动连接最近数据源复选框
 	 */
 	private JCheckBox jCBAutoConnect = new JCheckBox();
 
 	/**
-	 * ǷԶ渴ѡ
+	 * 是否自动保存复选框
 	 */
 	private JCheckBox jCBAutoSave = new JCheckBox(
 			mm.getMessage("dialogoptions.autosave"));
 
 	private JLabel jLAutoSaveInterval = new JLabel(
-			mm.getMessage("dialogoptions.autosaveinterval")); // ÿ
+			mm.getMessage("dialogoptions.autosaveinterval")); // 每隔
 
 	protected GridLayout ideOptLayout = new GridLayout(5, 2);
 	protected JPanel jPIdeOpt = new JPanel();
 
 	/**
-	 * Զʱ
+	 * 自动保存的时间间隔
 	 */
 	private JSpinner jSAutoSaveInterval = new JSpinner(new SpinnerNumberModel(
 			ConfigOptions.iAutoSaveMinutes.intValue(), 1, 60 * 24, 1));
 
 	private JLabel jLAutoSaveMinutes = new JLabel(
-			mm.getMessage("dialogoptions.autosaveminutes")); // 
+			mm.getMessage("dialogoptions.autosaveminutes")); // 分钟
 
-	// private JLabel jLAutoSaveDir = new JLabel("½ļ·");
+	// private JLabel jLAutoSaveDir = new JLabel("新建文件缓存路径");
 
 	// private JTextField jTFAutoSaveDir = new JTextField();
 
 	/**
-	 * Զַβ\0ѡ
+	 * 自动清除字符串尾部\0复选框
 	 */
 	private JCheckBox jCBAutoTrimChar0 = new JCheckBox();
 
 	/**
-	 * ǩ
+	 * 撤销和重做最大次数标签
 	 */
 	private JLabel jLUndoCount = new JLabel(IdeSplMessage.get().getMessage(
-			"dialogoptions.undocount")); // /
+			"dialogoptions.undocount")); // 撤销/重做的最大次数
 	/**
-	 * ؼ
+	 * 撤销和重做最大次数控件
 	 */
 	private JSpinner jSUndoCount = new JSpinner(new SpinnerNumberModel(20, 5,
 			Integer.MAX_VALUE, 1));
 
 	/**
-	 * ǩؼ
+	 * 多标签控件
 	 */
 	private JTabbedPane tabMain = new JTabbedPane();
 
 	/**
-	 * ݿӳʱʱ
+	 * 数据库连接超时时间
 	 */
 	private JSpinner jSConnectTimeout = new JSpinner(new SpinnerNumberModel(10,
 			1, 120, 1));
 
 	/**
-	 * Сؼ
+	 * 字体大小控件
 	 */
 	private JSpinner jSFontSize = new JSpinner(new SpinnerNumberModel(12, 1,
 			36, 1));
 	/**
-	 * Ųǩ
+	 * 最优并行数标签
 	 */
-	private JLabel labelParallelNum = new JLabel("Ų");
+	private JLabel labelParallelNum = new JLabel("最优并行数");
 
 	/**
-	 * Ųؼ
+	 * 最优并行数控件
 	 */
 	private JSpinner jSParallelNum = new JSpinner();
 	/**
-	 * ·αȱʡ·ǩ
+	 * 多路游标缺省路数标签
 	 */
-	private JLabel labelCursorParallelNum = new JLabel("·αȱʡ·");
+	private JLabel labelCursorParallelNum = new JLabel("多路游标缺省路数");
 
 	/**
-	 * ·αȱʡ·ؼ
+	 * 多路游标缺省路数控件
 	 */
 	private JSpinner jSCursorParallelNum = new JSpinner();
 
 	/**
-	 * 쳣д־ļؼ
+	 * 将异常写入日志文件控件
 	 */
 	// private JCheckBox jCBLogException = new JCheckBox();
 	/**
-	 * ӵݿʱȴ
+	 * 连接到数据库时最长等待
 	 */
 	private JLabel jLabelTimeout = new JLabel();
 
 	/**
-	 * 
+	 * 秒
 	 */
 	private JLabel jLabel9 = new JLabel();
 
 	/**
-	 * ӹ̨ܿѡ
+	 * 接管控制台复选框
 	 */
 	private JCheckBox jCBIdeConsole = new JCheckBox();
 
 	/**
-	 * Զļѡ
+	 * 自动打开最近文件复选框
 	 */
 	private JCheckBox jCBAutoOpen = new JCheckBox();
 
 	/**
-	 * ʾݿṹѡ
+	 * 显示数据库结构复选框
 	 */
 	private JCheckBox jCBShowDBStruct = new JCheckBox();
 
 	/**
-	 * ע⣺ѡɫѡҪIDEЧ
+	 * 注意：常规选项里面蓝色的选项需要重新启动IDE才能生效。
 	 */
 	private JLabel jLabelNote = new JLabel();
 
 	/**
-	 * Ӧó۱ǩ
+	 * 应用程序外观标签
 	 */
 	private JLabel jLabel22 = new JLabel();
 
 	/**
-	 * 䴰λôСѡ
+	 * 记忆窗口位置大小复选框
 	 */
 	private JCheckBox jCBWindow = new JCheckBox();
 
 	/**
-	 * ݳԪʾѡ
+	 * 内容冲出单元格显示复选框
 	 */
 	private JCheckBox jCBDispOutCell = new JCheckBox();
 	/**
-	 * ʽ༭ѡ
+	 * 自增长表达式编辑框复选框
 	 */
 	private JCheckBox jCBMultiLineExpEditor = new JCheckBox();
 
 	/**
-	 * ִʱ渴ѡ
+	 * 单步执行时光标跟随复选框
 	 */
 	private JCheckBox jCBStepLastLocation = new JCheckBox();
 
 	/**
-	 * Զи߸ѡ
+	 * 自动调整行高复选框
 	 */
 	private JCheckBox jCBAutoSizeRowHeight = new JCheckBox();
 
 	/**
-	 * ǷǨע͸еĵԪ
+	 * 是否变迁注释格中的单元格
 	 */
 	private JCheckBox jCBAdjustNoteCell = new JCheckBox(
 			mm.getMessage("dialogoptions.adjustnotecell"));
 
 	/**
-	 * ־ǩ
+	 * 日志级别标签
 	 */
 	private JLabel jLabelLevel = new JLabel();
 
 	/**
-	 * ־
+	 * 日志级别下拉框
 	 */
 	private JComboBoxEx jCBLevel = new JComboBoxEx();
 
 	/**
-	 * JAVAڴǩ
+	 * JAVA虚拟机内存标签
 	 */
 	private JLabel jLXmx = new JLabel(mm.getMessage("dialogoptions.xmx"));
 	/**
-	 * JAVAڴı
+	 * JAVA虚拟机内存文本框
 	 */
 	private JTextField jTFXmx = new JTextField();
 
 	/**
-	 * ؼ
+	 * 行数控件
 	 */
 	private JSpinner jSPRowCount;
 
 	/**
-	 * ؼ
+	 * 列数控件
 	 */
 	private JSpinner jSPColCount;
 
 	/**
-	 * и߿ؼ
+	 * 行高控件
 	 */
 	private JSpinner jSPRowHeight;
 
 	/**
-	 * пؼ
+	 * 列宽控件
 	 */
 	private JSpinner jSPColWidth;
 
 	/**
-	 * ǰɫؼ
+	 * 常量前景色控件
 	 */
 	private ColorComboBox constFColor;
 	/**
-	 * ɫؼ
+	 * 常量背景色控件
 	 */
 	private ColorComboBox constBColor;
 	/**
-	 * ע͸ǰɫؼ
+	 * 注释格前景色控件
 	 */
 	private ColorComboBox noteFColor;
 	/**
-	 * ע͸񱳾ɫؼ
+	 * 注释格背景色控件
 	 */
 	private ColorComboBox noteBColor;
 	/**
-	 * ֵǰɫؼ
+	 * 有值格前景色控件
 	 */
 	private ColorComboBox valFColor;
 	/**
-	 * ֵ񱳾ɫؼ
+	 * 有值格背景色控件
 	 */
 	private ColorComboBox valBColor;
 	/**
-	 * ֵǰɫؼ
+	 * 无值格前景色控件
 	 */
 	private ColorComboBox nValFColor;
 	/**
-	 * ֵ񱳾ɫؼ
+	 * 无值格背景色控件
 	 */
 	private ColorComboBox nValBColor;
 	/**
-	 * 
+	 * 字体名称下拉框
 	 */
 	private JComboBox jCBFontName;
 	/**
-	 * С
+	 * 字体大小下拉框
 	 */
 	private JComboBoxEx jCBFontSize;
 	/**
-	 * 帴ѡ
+	 * 粗体复选框
 	 */
 	private JCheckBox jCBBold;
 	/**
-	 * б帴ѡ
+	 * 斜体复选框
 	 */
 	private JCheckBox jCBItalic;
 	/**
-	 * »߸ѡ
+	 * 下划线复选框
 	 */
 	private JCheckBox jCBUnderline;
 	/**
-	 * ༭ؼ
+	 * 间隔编辑控件
 	 */
 	private JSpinner jSPIndent;
 	/**
-	 * ˮƽ
+	 * 水平对齐下拉框
 	 */
 	private JComboBoxEx jCBHAlign;
 	/**
-	 * ֱ
+	 * 垂直对齐下拉框
 	 */
 	private JComboBoxEx jCBVAlign;
 
 	/**
-	 * ֺ
+	 * 字号
 	 */
 	private JLabel labelFontSize = new JLabel(
 			mm.getMessage("dialogoptions.fontsize"));
 
 	/**
-	 * ʾԱ༭ؼ
+	 * 序列显示成员数编辑控件
 	 */
 	private JSpinner jSSeqMembers;
 	/**
-	 * 
+	 * 语言
 	 */
 	private JLabel labelLocale = new JLabel(
 			mm.getMessage("dialogoptions.labellocale"));
 	/**
-	 * 
+	 * 字体
 	 */
 	private JLabel labelFontName = new JLabel(
 			mm.getMessage("dialogoptions.fontname"));
 
 	/**
-	 * 
+	 * 本机语言下拉框
 	 */
 	private JComboBoxEx jCBLocale = new JComboBoxEx();
 
-	/** ҳ */
+	/** 常规页 */
 	private final byte TAB_NORMAL = 0;
-	/** ҳ */
+	/** 环境页 */
 	private final byte TAB_ENV = 1;
 
 	/**
-	 * Ƿڵѡ
+	 * 是否节点机选项
 	 */
 	private boolean isUnit = false;
 	/**
-	 * ڿؼ
+	 * 父窗口控件
 	 */
 	private JFrame parent;
 	/**
-	 * Ƿʾڴ
+	 * 是否显示最大内存设置
 	 */
 	private boolean showXmx = true;
 
 	/**
-	 * ǷCTRL
+	 * 是否按下了CTRL键
 	 */
 	private boolean isCtrlDown = false;
 
 	/**
-	 * 
+	 * 环境面板
 	 */
 	protected PanelEnv panelEnv;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogOptions() {
 		this(GV.appFrame, false);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param parent ڿؼ
-	 * @param isUnit Ƿڵѡ
+	 * @param parent 父窗口控件
+	 * @param isUnit 是否节点机选项窗口
 	 */
 	public DialogOptions(JFrame parent, boolean isUnit) {
-		super(parent, "ѡ", true);
+		super(parent, "选项", true);
 		try {
 			this.parent = parent;
 			this.isUnit = isUnit;
@@ -441,7 +441,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -450,7 +450,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ̼
+	 * 键盘监听器
 	 */
 	private KeyListener keyListener = new KeyListener() {
 		public void keyPressed(KeyEvent e) {
@@ -475,7 +475,7 @@ public class DialogOptions extends JDialog {
 	};
 
 	/**
-	 * ʾһǩҳ
+	 * 显示下一个标签页
 	 */
 	private void showNextTab() {
 		int size = tabMain.getComponentCount();
@@ -497,7 +497,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * Ӱ
+	 * 增加按键监听器
 	 * 
 	 * @param comp
 	 */
@@ -515,37 +515,37 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	void resetLangText() {
-		setTitle(mm.getMessage("dialogoptions.title")); // ѡ
+		setTitle(mm.getMessage("dialogoptions.title")); // 选项
 		jBOK.setText(mm.getMessage("button.ok"));
 		jBCancel.setText(mm.getMessage("button.cancel"));
 		// Normal
-		jCBIdeConsole.setText(mm.getMessage("dialogoptions.ideconsole")); // ӹ̨ܿ
-		jCBAutoOpen.setText(mm.getMessage("dialogoptions.autoopen")); // Զ򿪣ļ
-		jCBAutoBackup.setText(mm.getMessage("dialogoptions.autobackup")); // ʱԶݣļ׺.BAK
+		jCBIdeConsole.setText(mm.getMessage("dialogoptions.ideconsole")); // 接管控制台
+		jCBAutoOpen.setText(mm.getMessage("dialogoptions.autoopen")); // 自动打开（最近文件）
+		jCBAutoBackup.setText(mm.getMessage("dialogoptions.autobackup")); // 保存时自动备份（加文件后缀.BAK）
 		// jCBLogException.setText(mm.getMessage("dialogoptions.logexception"));
-		// // 쳣д־ļ
-		jCBAutoConnect.setText(mm.getMessage("dialogoptions.autoconnect")); // Զӣӣ
-		jCBAutoTrimChar0.setText(mm.getMessage("dialogoptions.autotrimchar0")); // Զַβ\0
-		jCBWindow.setText(mm.getMessage("dialogoptions.windowsize")); // 䴰λôС
-		jLabel22.setText(mm.getMessage("dialogoptions.applnf")); // Ӧó
-		jLabelTimeout.setText(mm.getMessage("dialogoptions.timeoutnum")); // ӵݿʱȴ
-		jLabel9.setText(mm.getMessage("dialogoptions.second")); // 
-		jLabelNote.setText(mm.getMessage("dialogoptions.attention")); // ע⣺ѡɫѡҪIDEЧ
-		jLabelLevel.setText(mm.getMessage("dialogoptions.loglevel")); // ־
-		jCBDispOutCell.setText(mm.getMessage("dialogoptions.dispoutcell")); // ݳԪʾ
+		// // 将异常写入日志文件
+		jCBAutoConnect.setText(mm.getMessage("dialogoptions.autoconnect")); // 自动连接（最近连接）
+		jCBAutoTrimChar0.setText(mm.getMessage("dialogoptions.autotrimchar0")); // 自动清除字符串尾部\0
+		jCBWindow.setText(mm.getMessage("dialogoptions.windowsize")); // 记忆窗口位置大小
+		jLabel22.setText(mm.getMessage("dialogoptions.applnf")); // 应用程序外观
+		jLabelTimeout.setText(mm.getMessage("dialogoptions.timeoutnum")); // 连接到数据库时最长等待
+		jLabel9.setText(mm.getMessage("dialogoptions.second")); // 秒
+		jLabelNote.setText(mm.getMessage("dialogoptions.attention")); // 注意：常规选项里面蓝色的选项需要重新启动IDE才能生效。
+		jLabelLevel.setText(mm.getMessage("dialogoptions.loglevel")); // 日志级别
+		jCBDispOutCell.setText(mm.getMessage("dialogoptions.dispoutcell")); // 内容冲出单元格显示
 		jCBAutoSizeRowHeight.setText(mm
-				.getMessage("dialogoptions.autosizerowheight")); // Զи
+				.getMessage("dialogoptions.autosizerowheight")); // 自动调整行高
 		jCBShowDBStruct.setText(mm.getMessage("dialogoptions.showdbstruct"));
-		labelParallelNum.setText(mm.getMessage("dialogoptions.parnum")); // Ų
+		labelParallelNum.setText(mm.getMessage("dialogoptions.parnum")); // 最优并行数
 		labelCursorParallelNum
 				.setText(mm.getMessage("dialogoptions.curparnum"));
 
-		jCBMultiLineExpEditor.setText(mm.getMessage("dialogoptions.multiline")); // ʽ༭
+		jCBMultiLineExpEditor.setText(mm.getMessage("dialogoptions.multiline")); // 自增长表达式编辑框
 		jCBStepLastLocation.setText(mm
-				.getMessage("dialogoptions.steplastlocation")); // ִʱ
+				.getMessage("dialogoptions.steplastlocation")); // 单步执行时光标跟随
 
 	}
 
@@ -553,7 +553,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ѡ
+	 * 保存选项
 	 * 
 	 * @return
 	 * @throws Throwable
@@ -623,7 +623,7 @@ public class DialogOptions extends JDialog {
 		ConfigOptions.sFontName = (String) jCBFontName.getSelectedItem();
 		Object oSize = jCBFontSize.x_getSelectedItem();
 		Short iSize;
-		if (oSize instanceof String) { // ûֱ
+		if (oSize instanceof String) { // 用户直接输入的数字
 			iSize = new Short((String) oSize);
 		} else {
 			iSize = (Short) oSize;
@@ -659,7 +659,7 @@ public class DialogOptions extends JDialog {
 	private String oldXmx = null;
 
 	/**
-	 * ѡ
+	 * 加载选项
 	 */
 	private void load() {
 		if (showXmx)
@@ -760,7 +760,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ؽڵ
+	 * 加载节点机配置
 	 * 
 	 * @return
 	 */
@@ -782,7 +782,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * Զļѡ仯
+	 * 自动打开文件选项变化了
 	 */
 	private void autoOpenChanged() {
 		boolean isAutoOpen = jCBAutoOpen.isSelected();
@@ -796,7 +796,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * Զѡ仯
+	 * 自动保存选项变化了
 	 */
 	private void autoSaveChanged() {
 		boolean isAutoSave = jCBAutoSave.isSelected();
@@ -810,38 +810,38 @@ public class DialogOptions extends JDialog {
 	public static final Color NOTE_COLOR = new Color(165, 0, 0);
 
 	/**
-	 * ʼ
+	 * 初始化界面
 	 * 
 	 * @throws Exception
 	 */
 	private void initUI() throws Exception {
-		jCBAutoBackup.setText("ʱԶݣļ׺.BAK");
-		jCBAutoConnect.setText("Զӣӣ");
+		jCBAutoBackup.setText("保存时自动备份（加文件后缀.BAK）");
+		jCBAutoConnect.setText("自动连接（最近连接）");
 		jCBAutoConnect.setEnabled(true);
 		jCBAutoConnect.setForeground(Color.blue);
 		labelLocale.setForeground(Color.blue);
-		// jCBLogException.setText("쳣д־ļ");
-		jLabelTimeout.setText("ӵݿʱȴ");
+		// jCBLogException.setText("将异常写入日志文件");
+		jLabelTimeout.setText("连接到数据库时最长等待");
 		jSConnectTimeout.setBorder(BorderFactory.createLoweredBevelBorder());
 
 		jLXmx.setForeground(Color.BLUE);
 
 		jSFontSize.setBorder(BorderFactory.createLoweredBevelBorder());
-		jCBIdeConsole.setText("ӹ̨ܿ");
+		jCBIdeConsole.setText("接管控制台");
 		jCBAutoOpen.setForeground(Color.blue);
-		jCBAutoOpen.setText("Զ򿪣ļ");
+		jCBAutoOpen.setText("自动打开（最近文件）");
 
-		jLabel9.setText("");
+		jLabel9.setText("秒");
 
 		jLabelNote.setForeground(NOTE_COLOR);
-		jLabelNote.setText("ע⣺ѡɫѡҪIDEЧ");
+		jLabelNote.setText("注意：选项里面蓝色的选项需要重新启动IDE才能生效。");
 		jLabel22.setForeground(Color.blue);
-		jLabel22.setText("Ӧó");
-		jCBWindow.setText("䴰λôС");
-		jCBDispOutCell.setText("ݳԪʾ");
-		jCBMultiLineExpEditor.setText("бʽ༭");
-		jCBStepLastLocation.setText("ִʱ");
-		jCBAutoSizeRowHeight.setText("Զи");
+		jLabel22.setText("应用程序外观");
+		jCBWindow.setText("记忆窗口位置大小");
+		jCBDispOutCell.setText("内容冲出单元格显示");
+		jCBMultiLineExpEditor.setText("多行表达式编辑");
+		jCBStepLastLocation.setText("单步执行时光标跟随");
+		jCBAutoSizeRowHeight.setText("自动调整行高");
 		Vector<Byte> lnfCodes = LookAndFeelManager.listLNFCode();
 		Vector<String> lnfDisps = LookAndFeelManager.listLNFDisp();
 		jCBLNF.x_setData(lnfCodes, lnfDisps);
@@ -853,17 +853,17 @@ public class DialogOptions extends JDialog {
 		JPanel panelMid = new JPanel();
 		jPanelButton.setLayout(VFlowLayout1);
 		jBOK.setActionCommand("");
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogOptions_jBOK_actionAdapter(this));
 		jBOK.setMnemonic('O');
 		jBCancel.setActionCommand("");
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogOptions_jBCancel_actionAdapter(
 				this));
 		jBCancel.setMnemonic('C');
 		jPanelButton.add(jBOK, null);
 		jPanelButton.add(jBCancel, null);
-		jLabelLevel.setText("־");
+		jLabelLevel.setText("日志级别");
 		jCBLevel.x_setData(ConfigOptions.dispLevels(),
 				ConfigOptions.dispLevels());
 		jCBLevel.x_setSelectedCodeItem(Logger.DEBUG);
@@ -932,7 +932,7 @@ public class DialogOptions extends JDialog {
 			panelMid.add(jLUndoCount, GM.getGBC(4, 1));
 			panelMid.add(jSUndoCount, GM.getGBC(4, 2, true));
 		}
-		// /ʱܻռøڴ档
+		// 当撤销/重做的最大次数过大时，可能会占用更多的内存。
 		jLUndoCount.setToolTipText(IdeSplMessage.get().getMessage(
 				"dialogoptions.undocountcause"));
 		jSUndoCount.setToolTipText(IdeSplMessage.get().getMessage(
@@ -943,7 +943,7 @@ public class DialogOptions extends JDialog {
 		JPanel jPanelTimeout = new JPanel();
 		jPanelTimeout.setLayout(fl1);
 		jPanelTimeout.add(jSConnectTimeout);
-		jPanelTimeout.add(jLabel9); // 
+		jPanelTimeout.add(jLabel9); // 秒
 
 		panelMid.add(jLabelTimeout, GM.getGBC(5, 1));
 		panelMid.add(jPanelTimeout, GM.getGBC(5, 2, true));
@@ -1005,31 +1005,31 @@ public class DialogOptions extends JDialog {
 		panelSpl.add(panelSplGrid, BorderLayout.NORTH);
 		panelSplGrid.setLayout(new GridBagLayout());
 		JLabel labelRowCount = new JLabel(
-				mm.getMessage("dialogoptions.rowcount")); // 
+				mm.getMessage("dialogoptions.rowcount")); // 行数
 		JLabel labelColCount = new JLabel(
-				mm.getMessage("dialogoptions.colcount")); // 
+				mm.getMessage("dialogoptions.colcount")); // 列数
 		JLabel labelRowHeight = new JLabel(
-				mm.getMessage("dialogoptions.rowheight")); // и
+				mm.getMessage("dialogoptions.rowheight")); // 行高
 		JLabel labelColWidth = new JLabel(
-				mm.getMessage("dialogoptions.colwidth")); // п
-		JLabel labelCFColor = new JLabel(mm.getMessage("dialogoptions.cfcolor")); // ǰɫ
-		JLabel labelCBColor = new JLabel(mm.getMessage("dialogoptions.cbcolor")); // ɫ
-		JLabel labelNFColor = new JLabel(mm.getMessage("dialogoptions.nfcolor")); // עǰɫ
-		JLabel labelNBColor = new JLabel(mm.getMessage("dialogoptions.nbcolor")); // עͱɫ
-		JLabel labelVFColor = new JLabel(mm.getMessage("dialogoptions.vfcolor")); // ֵʽǰɫ
-		JLabel labelVBColor = new JLabel(mm.getMessage("dialogoptions.vbcolor")); // ֵʽɫ
+				mm.getMessage("dialogoptions.colwidth")); // 列宽
+		JLabel labelCFColor = new JLabel(mm.getMessage("dialogoptions.cfcolor")); // 常量前景色
+		JLabel labelCBColor = new JLabel(mm.getMessage("dialogoptions.cbcolor")); // 常量背景色
+		JLabel labelNFColor = new JLabel(mm.getMessage("dialogoptions.nfcolor")); // 注释前景色
+		JLabel labelNBColor = new JLabel(mm.getMessage("dialogoptions.nbcolor")); // 注释背景色
+		JLabel labelVFColor = new JLabel(mm.getMessage("dialogoptions.vfcolor")); // 有值表达式前景色
+		JLabel labelVBColor = new JLabel(mm.getMessage("dialogoptions.vbcolor")); // 有值表达式背景色
 		JLabel labelNVFColor = new JLabel(
-				mm.getMessage("dialogoptions.nvfcolor")); // ֵʽǰɫ
+				mm.getMessage("dialogoptions.nvfcolor")); // 无值表达式前景色
 		JLabel labelNVBColor = new JLabel(
-				mm.getMessage("dialogoptions.nvbcolor")); // ֵʽɫ
-		JLabel labelIndent = new JLabel(mm.getMessage("dialogoptions.indent")); // 
+				mm.getMessage("dialogoptions.nvbcolor")); // 无值表达式背景色
+		JLabel labelIndent = new JLabel(mm.getMessage("dialogoptions.indent")); // 缩进
 		JLabel labelSeqMembers = new JLabel(
-				mm.getMessage("dialogoptions.seqmembers")); // ʾԱ
+				mm.getMessage("dialogoptions.seqmembers")); // 序列显示成员上限
 
 		JLabel labelHAlign = new JLabel(IdeSplMessage.get().getMessage(
-				"dialogoptionsdfx.halign")); // ˮƽ
+				"dialogoptionsdfx.halign")); // 水平对齐
 		JLabel labelVAlign = new JLabel(IdeSplMessage.get().getMessage(
-				"dialogoptionsdfx.valign")); // 
+				"dialogoptionsdfx.valign")); // 纵向对齐
 		jSPRowCount = new JSpinner(new SpinnerNumberModel(20, 1, 100000, 1));
 		jSPColCount = new JSpinner(new SpinnerNumberModel(6, 1, 10000, 1));
 		jSPRowHeight = new JSpinner(new SpinnerNumberModel(25f, 1f, 100f, 1f));
@@ -1050,9 +1050,9 @@ public class DialogOptions extends JDialog {
 
 		jCBFontSize = GM.getFontSizes();
 		jCBFontSize.setEditable(true);
-		jCBBold = new JCheckBox(mm.getMessage("dialogoptions.bold")); // Ӵ
-		jCBItalic = new JCheckBox(mm.getMessage("dialogoptions.italic")); // б
-		jCBUnderline = new JCheckBox(mm.getMessage("dialogoptions.underline")); // »
+		jCBBold = new JCheckBox(mm.getMessage("dialogoptions.bold")); // 加粗
+		jCBItalic = new JCheckBox(mm.getMessage("dialogoptions.italic")); // 倾斜
+		jCBUnderline = new JCheckBox(mm.getMessage("dialogoptions.underline")); // 下划线
 		jSPIndent = new JSpinner(new SpinnerNumberModel(0, 0, 100, 1));
 		jSSeqMembers = new JSpinner(new SpinnerNumberModel(3, 1,
 				Integer.MAX_VALUE, 1));
@@ -1148,7 +1148,7 @@ public class DialogOptions extends JDialog {
 		} else {
 			tabMain.add(panelNormal, mm.getMessage("dialogoptions.panel0"));
 			tabMain.add(panelEnv, mm.getMessage("dialogoptions.panel1"));
-			tabMain.add(panelSpl, mm.getMessage("dialogoptions.panel2")); // 
+			tabMain.add(panelSpl, mm.getMessage("dialogoptions.panel2")); // 集算器
 		}
 
 		panelGrid.setLayout(new BorderLayout());
@@ -1165,26 +1165,26 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * JVMڴ
+	 * 检查JVM最大内存
 	 * 
 	 * @return
 	 */
 	private boolean checkXmx() {
 		String sNum = jTFXmx.getText();
 		if (!StringUtils.isValidString(sNum)) {
-			return true; // Ͳ
+			return true; // 不填就不设置
 		}
 		sNum = sNum.trim();
 		try {
 			Integer.parseInt(sNum);
-			// ûдλĬM
+			// 没有写单位默认是M
 			return true;
 		} catch (Exception e) {
 		}
-		// пд˵λG,M,K
+		// 有可能写了单位，比如G,M,K等
 		int buffer = ConfigUtil.parseBufferSize(sNum);
 		if (buffer == -1) {
-			return true; // Ͳ
+			return true; // 不填就不设置了
 		} else if (buffer == -2) {
 			JOptionPane.showMessageDialog(parent,
 					mm.getMessage("dialogoptions.invalidxmx"));
@@ -1194,7 +1194,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -1205,7 +1205,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ȷϰť¼
+	 * 确认按钮事件
 	 * 
 	 * @param e
 	 */
@@ -1231,7 +1231,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -1241,7 +1241,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ȡˮƽֵ
+	 * 取水平对齐代码值
 	 * 
 	 * @return
 	 */
@@ -1254,7 +1254,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ȡˮƽʾֵ
+	 * 取水平对齐显示值
 	 * 
 	 * @return
 	 */
@@ -1262,14 +1262,14 @@ public class DialogOptions extends JDialog {
 		MessageManager mm = IdeCommonMessage.get();
 
 		Vector<String> hAligns = new Vector<String>();
-		hAligns.add(mm.getMessage("dialogoptions.hleft")); // 
-		hAligns.add(mm.getMessage("dialogoptions.hcenter")); // ж
-		hAligns.add(mm.getMessage("dialogoptions.hright")); // Ҷ
+		hAligns.add(mm.getMessage("dialogoptions.hleft")); // 左对齐
+		hAligns.add(mm.getMessage("dialogoptions.hcenter")); // 中对齐
+		hAligns.add(mm.getMessage("dialogoptions.hright")); // 右对齐
 		return hAligns;
 	}
 
 	/**
-	 * ȡֱֵ
+	 * 取垂直对齐代码值
 	 * 
 	 * @return
 	 */
@@ -1282,21 +1282,21 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ȡֱʾֵ
+	 * 取垂直对齐显示值
 	 * 
 	 * @return
 	 */
 	public static Vector<String> getVAlignDisps() {
 		MessageManager mm = IdeCommonMessage.get();
 		Vector<String> vAligns = new Vector<String>();
-		vAligns.add(mm.getMessage("dialogoptions.vtop")); // 
-		vAligns.add(mm.getMessage("dialogoptions.vcenter")); // 
-		vAligns.add(mm.getMessage("dialogoptions.vbottom")); // 
+		vAligns.add(mm.getMessage("dialogoptions.vtop")); // 靠上
+		vAligns.add(mm.getMessage("dialogoptions.vcenter")); // 居中
+		vAligns.add(mm.getMessage("dialogoptions.vbottom")); // 靠下
 		return vAligns;
 	}
 
 	/**
-	 * ǰظֵһ£Զˮƽֱһ¼ݴһʱͿȥˡ
+	 * 以前定义有重复，且值不一致，所以对水平、垂直对齐做一下兼容处理，过一段时间就可以去掉这个了。
 	 */
 	private Byte compatibleHalign(Byte value) {
 		switch (value.byteValue()) {
@@ -1311,7 +1311,7 @@ public class DialogOptions extends JDialog {
 	}
 
 	/**
-	 * ΪIStyle˳ֵݴһ£޷
+	 * 因为IStyle改了常量值，兼容处理一下，横向的无法处理。
 	 */
 	private Byte compatibleValign(Byte value) {
 		switch (value.byteValue()) {
@@ -24,26 +24,26 @@ import com.scudata.ide.common.GV;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ֽ֧
+ * 集算器技术支持界面
  * 
  */
 public class DialogProcSurport extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * Դ
+	 * 集算器语言资源管理器
 	 */
 	private MessageManager mm = IdeSplMessage.get();
 	/**
-	 * رհť
+	 * 关闭按钮
 	 */
 	private JButton jBClose = new JButton();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogProcSurport() {
-		super(GV.appFrame, "֧", true);
+		super(GV.appFrame, "技术支持", true);
 		init();
 		setSize(GC.LANGUAGE == GC.ASIAN_CHINESE ? 425 : 450, 340);
 		GM.setDialogDefaultButton(this, jBClose, jBClose);
@@ -51,7 +51,7 @@ public class DialogProcSurport extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
 		setTitle(mm.getMessage("dialogprocsurport.title"));
@@ -59,7 +59,7 @@ public class DialogProcSurport extends JDialog {
 	}
 
 	/**
-	 * رմ
+	 * 关闭窗口
 	 */
 	private void closeWindow() {
 		GM.setWindowDimension(this);
@@ -67,7 +67,7 @@ public class DialogProcSurport extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 */
 	private void init() {
 		final String QQ = "800025723";
@@ -77,7 +77,7 @@ public class DialogProcSurport extends JDialog {
 		final String LABEL_COPIED = TEL + "  ("
 				+ mm.getMessage("dialogprocsurport.copied") + ")";
 		jBClose.setMnemonic('C');
-		jBClose.setText("ر(C)");
+		jBClose.setText("关闭(C)");
 		jBClose.addActionListener(new ActionListener() {
 
 			public void actionPerformed(ActionEvent e) {
@@ -38,7 +38,7 @@ import com.scudata.ide.spl.control.SplEditor;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * Ի
+ * 搜索对话框
  *
  */
 public class DialogSearch extends JDialog {
@@ -51,69 +51,69 @@ public class DialogSearch extends JDialog {
 	private static SegmentSet status = new SegmentSet("");
 
 	/**
-	 * ݱǩ
+	 * 查找内容标签
 	 */
 	private JLabel jLabel1 = new JLabel();
 	/**
-	 * 滻Ϊǩ
+	 * 替换为标签
 	 */
 	private JLabel jLabel2 = new JLabel();
 	/**
-	 * 
+	 * 搜索内容下拉框
 	 */
 	private JComboBox jCBSearch = new JComboBox();
 	/**
-	 * 滻Ϊ
+	 * 替换为内容下拉框
 	 */
 	private JComboBox jCBReplace = new JComboBox();
 	/**
-	 * ť
+	 * 搜索按钮
 	 */
 	private JButton jBSearch = new JButton();
 	/**
-	 * 滻ť
+	 * 替换按钮
 	 */
 	private JButton jBReplace = new JButton();
 	/**
-	 * ȫ滻ť
+	 * 全部替换按钮
 	 */
 	private JButton jBReplaceAll = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton jBCancel = new JButton();
 	/**
-	 * Сдиѡ
+	 * 大小写敏感复选框
 	 */
 	private JCheckBox jCBSensitive = new JCheckBox();
 	/**
-	 * ʸѡ
+	 * 仅搜索独立单词复选框
 	 */
 	private JCheckBox jCBWordOnly = new JCheckBox();
 	/**
-	 * еʸѡ
+	 * 忽略引号中单词复选框
 	 */
 	private JCheckBox jCBQuote = new JCheckBox();
 	/**
-	 * Բеʸѡ
+	 * 忽略圆括号中单词复选框
 	 */
 	private JCheckBox jCBPars = new JCheckBox();
 	/**
-	 * ӷΧ
+	 * 搜索格子范围
 	 */
 	private TitledBorder titledBorder1;
 
 	/**
-	 * ԷΧ
+	 * 搜索属性范围
 	 */
 	private TitledBorder titledBorder2;
 	/**
-	 * Դ
+	 * 集算器语言资源管理器
 	 */
 	private MessageManager splMM = IdeSplMessage.get();
 
 	/**
-	 * 洢ѡļ
+	 * 存储搜索选项的键
 	 */
 	private static final String KEY_QUOTE = "quote";
 	private static final String KEY_RARS = "pars";
@@ -121,55 +121,55 @@ public class DialogSearch extends JDialog {
 	private static final String KEY_CASE = "case";
 
 	/**
-	 * Ƿ滻true滻false
+	 * 是否替换。true替换，false搜索
 	 */
 	private boolean isReplace = false;
 	/**
-	 * ť
+	 * 点击搜索按钮
 	 */
 	private boolean isSearchClicked = false;
 	/**
-	 * ַ
+	 * 搜索的字符串
 	 */
 	private String searchString = "";
 	/**
-	 * 滻ַ
+	 * 替换的字符串
 	 */
 	private String replaceString = "";
 	/**
-	 * ѡ
+	 * 搜索的选项
 	 */
 	private int searchFlag;
 	/**
-	 * ַе
+	 * 字符串中的序号
 	 */
 	private int stringIndex = -1;
 	/**
-	 * 
+	 * 搜索的行
 	 */
 	private int searchedRow = -1;
 	/**
-	 * 
+	 * 搜索的列
 	 */
 	private int searchedCol = -1;
 	/**
-	 * ѡ
+	 * 仅在选择区域内搜索
 	 */
 	private boolean searchSelectedCells = false;
 	/**
-	 * ȫ滻ʼ
+	 * 全部替换开始行
 	 */
 	private int replaceAllStartRow = 1;
 	/**
-	 * ȫ滻ʼ
+	 * 全部替换开始列
 	 */
 	private int replaceAllStartCol = 1;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogSearch() {
-		super(GV.appFrame, "", false);
+		super(GV.appFrame, "查找", false);
 		try {
 			initUI();
 			init();
@@ -184,26 +184,26 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetLangText() {
-		setTitle(splMM.getMessage("dialogsearch.title")); // 
-		titledBorder1.setTitle(splMM.getMessage("dialogsearch.titleborder1")); // ӷΧ
-		titledBorder2.setTitle(splMM.getMessage("dialogsearch.titleborder2")); // ԷΧ
-		jLabel1.setText(splMM.getMessage("dialogsearch.searchcontent")); // 
-		jLabel2.setText(splMM.getMessage("dialogsearch.replaceas")); // 滻Ϊ
-		jBSearch.setText(splMM.getMessage("button.search")); // (F)
-		jBReplace.setText(splMM.getMessage("button.replace")); // 滻(R)
-		jBReplaceAll.setText(splMM.getMessage("button.replaceall")); // ȫ滻(A)
-		jBCancel.setText(splMM.getMessage("button.close")); // ر(C)
-		jCBSensitive.setText(splMM.getMessage("dialogsearch.casesensitive")); // ִСд
-		jCBWordOnly.setText(splMM.getMessage("dialogsearch.wordonly")); // 
-		jCBQuote.setText(splMM.getMessage("dialogsearch.ignorequote")); // е
-		jCBPars.setText(splMM.getMessage("dialogsearch.ignorepars")); // Բе
+		setTitle(splMM.getMessage("dialogsearch.title")); // 查找
+		titledBorder1.setTitle(splMM.getMessage("dialogsearch.titleborder1")); // 搜索格子范围
+		titledBorder2.setTitle(splMM.getMessage("dialogsearch.titleborder2")); // 搜索属性范围
+		jLabel1.setText(splMM.getMessage("dialogsearch.searchcontent")); // 查找内容
+		jLabel2.setText(splMM.getMessage("dialogsearch.replaceas")); // 替换为
+		jBSearch.setText(splMM.getMessage("button.search")); // 查找(F)
+		jBReplace.setText(splMM.getMessage("button.replace")); // 替换(R)
+		jBReplaceAll.setText(splMM.getMessage("button.replaceall")); // 全部替换(A)
+		jBCancel.setText(splMM.getMessage("button.close")); // 关闭(C)
+		jCBSensitive.setText(splMM.getMessage("dialogsearch.casesensitive")); // 区分大小写
+		jCBWordOnly.setText(splMM.getMessage("dialogsearch.wordonly")); // 仅搜索独立单词
+		jCBQuote.setText(splMM.getMessage("dialogsearch.ignorequote")); // 忽略引号中单词
+		jCBPars.setText(splMM.getMessage("dialogsearch.ignorepars")); // 忽略圆括号中单词
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		String sTmp;
@@ -226,7 +226,7 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * ѡ
+	 * 保存搜索选项
 	 */
 	private void rememberStatus() {
 		status.put(KEY_CASE, new Boolean(jCBSensitive.isSelected()).toString());
@@ -238,7 +238,7 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * 
+	 * 重置下拉项
 	 */
 	private void resetDropItems() {
 		String sTmp;
@@ -260,19 +260,19 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * ؼ
+	 * 设置网格控件
 	 * 
-	 * @param editor ༭
+	 * @param editor 网格编辑器
 	 */
 	// public void setControl(SplEditor editor) {
 	// setControl(editor, isReplace);
 	// }
 
 	/**
-	 * ؼ
+	 * 设置网格控件
 	 * 
-	 * @param editor  ༭
-	 * @param replace Ƿ滻true滻false
+	 * @param editor  网格编辑器
+	 * @param replace 是否替换。true替换，false搜索
 	 */
 	public void setConfig(boolean replace) {
 		// this.splEditor = editor;
@@ -280,9 +280,9 @@ public class DialogSearch extends JDialog {
 		// this.splControl = (EditControl) editor.getComponent();
 		resetDropItems();
 		if (replace) {
-			setTitle(splMM.getMessage("dialogsearch.title")); // 
+			setTitle(splMM.getMessage("dialogsearch.title")); // 查找
 		} else {
-			setTitle(splMM.getMessage("dialogsearch.replace")); // 滻
+			setTitle(splMM.getMessage("dialogsearch.replace")); // 替换
 		}
 		jCBReplace.setEnabled(replace);
 		jBReplace.setEnabled(replace);
@@ -290,41 +290,41 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
 	private void initUI() throws Exception {
 		titledBorder1 = new TitledBorder(BorderFactory.createEtchedBorder(
-				Color.white, new Color(148, 145, 140)), "ӷΧ");
+				Color.white, new Color(148, 145, 140)), "搜索格子范围");
 		titledBorder2 = new TitledBorder(BorderFactory.createEtchedBorder(
-				Color.white, new Color(148, 145, 140)), "ԷΧ");
+				Color.white, new Color(148, 145, 140)), "搜索属性范围");
 		JPanel panel1 = new JPanel();
 		BorderLayout borderLayout1 = new BorderLayout();
 		JPanel jPanel1 = new JPanel();
 		VFlowLayout vFlowLayout1 = new VFlowLayout();
 		GridBagLayout gridBagLayout1 = new GridBagLayout();
 		panel1.setLayout(gridBagLayout1);
-		jLabel1.setText("");
-		jLabel2.setText("滻Ϊ");
-		jBSearch.setText("(F)");
+		jLabel1.setText("查找内容");
+		jLabel2.setText("替换为");
+		jBSearch.setText("查找(F)");
 		jBSearch.setMnemonic('F');
 		jBSearch.addActionListener(new DialogSearch_jBSearch_actionAdapter(this));
-		jBReplace.setText("滻(R)");
+		jBReplace.setText("替换(R)");
 		jBReplace.setMnemonic('R');
 		jBReplace.addActionListener(new DialogSearch_jBReplace_actionAdapter(
 				this));
-		jBReplaceAll.setText("ȫ滻(A)");
+		jBReplaceAll.setText("全部替换(A)");
 		jBReplaceAll.setMnemonic('A');
 		jBReplaceAll
 				.addActionListener(new DialogSearch_jBReplaceAll_actionAdapter(
 						this));
-		jBCancel.setText("ر(C)");
+		jBCancel.setText("关闭(C)");
 		jBCancel.setMnemonic('C');
 		jBCancel.addActionListener(new DialogSearch_jBCancel_actionAdapter(this));
 		jCBSensitive.setMaximumSize(new Dimension(95, 27));
-		jCBSensitive.setText("ִСд");
-		jCBWordOnly.setText("");
+		jCBSensitive.setText("区分大小写");
+		jCBWordOnly.setText("仅搜索独立单词");
 		JPanel jPanel2 = new JPanel();
 		jPanel2.setBorder(titledBorder2);
 		jCBSearch.setEditable(true);
@@ -361,10 +361,10 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * ѡ
+	 * 设置搜索选项
 	 * 
-	 * @param searchString  ַ
-	 * @param replaceString 滻ַ
+	 * @param searchString  搜索的字符串
+	 * @param replaceString 替换的字符串
 	 */
 	private void setSearchConfig(String searchString, String replaceString) {
 		this.searchString = searchString;
@@ -388,7 +388,7 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * 
+	 * 搜索
 	 * 
 	 * @return
 	 */
@@ -397,7 +397,7 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * 滻
+	 * 替换
 	 * 
 	 * @return
 	 */
@@ -415,7 +415,7 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * ȫ滻
+	 * 全部替换
 	 * 
 	 * @return
 	 */
@@ -436,10 +436,10 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * 滻
+	 * 替换
 	 * 
-	 * @param replaceAll Ƿȫ滻trueȫ滻false滻
-	 * @param cmds       ԭ
+	 * @param replaceAll 是否全部替换。true全部替换，false替换
+	 * @param cmds       原子命令集
 	 * @return
 	 */
 	private boolean replace(boolean replaceAll, Vector<IAtomicCmd> cmds) {
@@ -472,9 +472,9 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * 
+	 * 搜索
 	 * 
-	 * @param replaceAll Ƿȫ滻trueȫ滻false滻
+	 * @param replaceAll 是否全部替换。true全部替换，false替换
 	 * @return
 	 */
 	private boolean search(boolean replaceAll) {
@@ -537,13 +537,13 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * 
+	 * 搜索
 	 * 
-	 * @param startRow   ʼ
-	 * @param startCol   ʼ
-	 * @param endRow     
-	 * @param endCol     
-	 * @param replaceAll Ƿȫ滻trueȫ滻false滻
+	 * @param startRow   开始行
+	 * @param startCol   开始列
+	 * @param endRow     结束行
+	 * @param endCol     结束列
+	 * @param replaceAll 是否全部替换。true全部替换，false替换
 	 * @return
 	 */
 	private boolean search(int startRow, int startCol, int endRow, int endCol,
@@ -583,7 +583,7 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * ť¼
+	 * 搜索按钮事件
 	 * 
 	 * @param e
 	 */
@@ -601,13 +601,13 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * 滻ť¼
+	 * 替换按钮事件
 	 * 
 	 * @param e
 	 */
 	void jBReplace_actionPerformed(ActionEvent e) {
 		if (isSearchClicked) {
-			// ˣ滻ӵǰλÿʼ滻
+			// 如果搜索到了，则替换从当前位置开始替换
 			stringIndex = -1;
 		}
 		isSearchClicked = false;
@@ -628,7 +628,7 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * ȫ滻ť¼
+	 * 全部替换按钮事件
 	 * 
 	 * @param e
 	 */
@@ -645,7 +645,7 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * ȡť¼
+	 * 取消按钮事件
 	 * 
 	 * @param e
 	 */
@@ -656,7 +656,7 @@ public class DialogSearch extends JDialog {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -14,16 +14,16 @@ import com.scudata.ide.common.GM;
 import com.scudata.ide.common.swing.FreeLayout;
 
 /**
- * ʾͼƬ
+ * 集算器显示启动图片窗口
  * 
  */
 public class DialogSplash extends JDialog {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param splashImage splashͼƬ·
+	 * @param splashImage splash图片路径
 	 */
 	public DialogSplash(String splashImage) {
 		try {
@@ -41,7 +41,7 @@ public class DialogSplash extends JDialog {
 	}
 
 	/**
-	 * ʼؼ
+	 * 初始化控件
 	 * 
 	 * @throws Exception
 	 */
@@ -55,14 +55,14 @@ public class DialogSplash extends JDialog {
 	}
 
 	/**
-	 * رմ
+	 * 关闭窗口
 	 */
 	public void closeWindow() {
 		dispose();
 	}
 
 	/**
-	 * ȡͼƬ
+	 * 取图片对象
 	 * 
 	 * @return
 	 */
@@ -86,7 +86,7 @@ public class DialogSplash extends JDialog {
 	}
 
 	/**
-	 * ʾͼƬ
+	 * 显示图片的面板
 	 *
 	 */
 	class ImagePanel extends JPanel {
@@ -29,22 +29,22 @@ import com.scudata.ide.common.GV;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ı༭Ի
+ * 文本编辑对话框
  *
  */
 public class DialogTextEditor extends JDialog implements ActionListener {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * ȷϰť
+	 * 确认按钮
 	 */
 	private JButton okButton = new JButton();
 	/**
-	 * ȡť
+	 * 取消按钮
 	 */
 	private JButton cancelButton = new JButton();
 
 	/**
-	 * ı༭ؼ
+	 * 文本编辑控件
 	 */
 	protected RSyntaxTextArea textEditor = new RSyntaxTextArea() {
 		private static final long serialVersionUID = 1L;
@@ -59,44 +59,44 @@ public class DialogTextEditor extends JDialog implements ActionListener {
 	};
 
 	/**
-	 * 
+	 * 滚动面板
 	 */
 	protected RTextScrollPane spEditor = new RTextScrollPane(textEditor);
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	private MessageManager mm = IdeSplMessage.get();
 	/**
-	 * Զиѡ
+	 * 自动换行复选框
 	 */
 	private JCheckBox jCBLineWrap = new JCheckBox(mm.getMessage("dialogtexteditor.linewrap"));
 
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int option = JOptionPane.CLOSED_OPTION;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogTextEditor() {
 		this(true);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param isEditable ǷԱ༭
+	 * @param isEditable 是否可以编辑
 	 */
 	public DialogTextEditor(boolean isEditable) {
 		this(GV.appFrame, isEditable);
 	}
 
 	/**
-	 * 캯
+	 * 构造函数
 	 * 
-	 * @param parent     
-	 * @param isEditable ǷԱ༭
+	 * @param parent     父组件
+	 * @param isEditable 是否可以编辑
 	 */
 	public DialogTextEditor(JFrame parent, boolean isEditable) {
 		super(parent, "", true);
@@ -117,7 +117,7 @@ public class DialogTextEditor extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -126,7 +126,7 @@ public class DialogTextEditor extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ı
+	 * 设置文本
 	 * 
 	 * @param text
 	 */
@@ -136,7 +136,7 @@ public class DialogTextEditor extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ȡı
+	 * 取文本
 	 * 
 	 * @return
 	 */
@@ -145,7 +145,7 @@ public class DialogTextEditor extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		this.getContentPane().setLayout(new BorderLayout());
@@ -167,7 +167,7 @@ public class DialogTextEditor extends JDialog implements ActionListener {
 		textEditor.setEditable(true);
 		textEditor.setCodeFoldingEnabled(true);
 		textEditor.setFont(GC.font);
-		// textEditor.setToolTipText(mm.getMessage("toolbarproperty.cellexp")); // Ԫʽ
+		// textEditor.setToolTipText(mm.getMessage("toolbarproperty.cellexp")); // 单元格表达式
 		textEditor.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_SQL);
 
 		this.addWindowListener(new WindowAdapter() {
@@ -185,7 +185,7 @@ public class DialogTextEditor extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * رմ
+	 * 关闭窗口
 	 */
 	private void closeWindow() {
 		ConfigOptions.bTextEditorLineWrap = jCBLineWrap.isSelected();
@@ -194,7 +194,7 @@ public class DialogTextEditor extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ؼ¼
+	 * 控件事件
 	 */
 	public void actionPerformed(ActionEvent e) {
 		Object c = e.getSource();
@@ -42,7 +42,7 @@ import com.scudata.parallel.UnitContext;
 import com.scudata.parallel.UnitConfig.Host;
 
 /**
- * ֻϢ
+ * 分机配置信息窗口
  * 
  * @author Joancy
  *
@@ -65,15 +65,15 @@ public class DialogUnitConfig extends JDialog {
 	private JButton jBCancel = new JButton();
 
 	private JLabel labelTempTimeOut = new JLabel(
-			mm.getMessage("dialogunitconfig.temptimeout")); // ʱļʱ()
+			mm.getMessage("dialogunitconfig.temptimeout")); // 临时文件过期时间(秒)
 	private JSpinner jSTempTimeOut = new JSpinner(new SpinnerNumberModel(12, 0,
 			Integer.MAX_VALUE, 1));
 	private JLabel labelProxyTimeOut = new JLabel(
-			mm.getMessage("dialogunitconfig.proxytimeout")); // ʱ()
+			mm.getMessage("dialogunitconfig.proxytimeout")); // 代理过期时间(秒)
 	private JSpinner jSProxyTimeOut = new JSpinner(new SpinnerNumberModel(12,
 			0, Integer.MAX_VALUE, 1));
 	private JLabel labelInterval = new JLabel(
-			mm.getMessage("dialogunitconfig.checkinterval")); // ڼ()
+			mm.getMessage("dialogunitconfig.checkinterval")); // 检查过期间隔(秒)
 	private JSpinner jSInterval = new JSpinner(new SpinnerNumberModel(0, 0,
 			Integer.MAX_VALUE, 1));
 
@@ -90,23 +90,23 @@ public class DialogUnitConfig extends JDialog {
 	private final int COL_MAXTASKNUM = 3;
 	private final int COL_ISLOCAL = 4;
 
-	private final String TITLE_INDEX = mm.getMessage("dialogunitconfig.index"); // 
-	private final String TITLE_HOST = mm.getMessage("dialogunitconfig.tabunit"); // ֻ
-	private final String TITLE_PORT = mm.getMessage("dialogunitconfig.port"); // ˿
+	private final String TITLE_INDEX = mm.getMessage("dialogunitconfig.index"); // 序号
+	private final String TITLE_HOST = mm.getMessage("dialogunitconfig.tabunit"); // 分机
+	private final String TITLE_PORT = mm.getMessage("dialogunitconfig.port"); // 端口
 	private final String TITLE_MAXTASKNUM = mm
-			.getMessage("dialogunitconfig.maxtasknum"); // ҵ
+			.getMessage("dialogunitconfig.maxtasknum"); // 最大作业数
 //	private final String TITLE_PREFERREDTASKNUM = mm
-//			.getMessage("dialogunitconfig.preferredtasknum"); // ʺҵ
+//			.getMessage("dialogunitconfig.preferredtasknum"); // 适合作业数
 	private final String TITLE_ISLOCAL = mm
-			.getMessage("dialogunitconfig.islocal"); // Ƿ񱾻
+			.getMessage("dialogunitconfig.islocal"); // 是否本机
 
 	protected JTableEx tableHosts = new JTableEx(new String[] { TITLE_INDEX,
 			TITLE_HOST, TITLE_PORT, TITLE_MAXTASKNUM,TITLE_ISLOCAL});
 
 	private final int COL_START = 1;
 	private final int COL_END = 2;
-	private final String TITLE_START = mm.getMessage("dialogunitconfig.start"); // ʼIP
-	private final String TITLE_END = mm.getMessage("dialogunitconfig.end"); // IP
+	private final String TITLE_START = mm.getMessage("dialogunitconfig.start"); // 起始IP
+	private final String TITLE_END = mm.getMessage("dialogunitconfig.end"); // 结束IP
 	private JTableEx tableClients = new JTableEx(new String[] { TITLE_INDEX,
 			TITLE_START, TITLE_END });
 	JCheckBox cbCheck = new JCheckBox(mm.getMessage("dialogunitconfig.check"));
@@ -123,9 +123,9 @@ public class DialogUnitConfig extends JDialog {
 	protected UnitConfig unitConfig = null;
 
 	/**
-	 * 캯
-	 * @param parent 
-	 * @param title 
+	 * 构造函数
+	 * @param parent 父窗体
+	 * @param title 标题
 	 */
 	public DialogUnitConfig(JFrame parent, String title) {
 		super(parent, title, true);
@@ -145,9 +145,9 @@ public class DialogUnitConfig extends JDialog {
 	}
 
 	/**
-	 * 򿪶ԻѡһĿ¼
-	 * @param oldPath еĿ¼
-	 * @return ѡĿ¼
+	 * 打开对话框选中一个目录
+	 * @param oldPath 已有的目录
+	 * @return 选择的目录
 	 */
 	public static String dialogSelectDirectory(String oldPath) {
 		String path = GM.dialogSelectDirectory(oldPath);
@@ -155,25 +155,25 @@ public class DialogUnitConfig extends JDialog {
 	}
 
 	/**
-	 * 򿪶Իѡһļ
-	 * @param exts ļչ
-	 * @return ļ
+	 * 打开对话框选择一个文件
+	 * @param exts 文件的扩展名
+	 * @return 文件对象
 	 */
 	public static File dialogSelectFile(String exts) {
 		return GM.dialogSelectFile(exts);
 	}
 
 	/**
-	 * ȡֻ
-	 * @return ֻ
+	 * 获取分机配置
+	 * @return 分机配置
 	 */
 	public UnitConfig getUnitConfig() {
 		return unitConfig;
 	}
 
 	/**
-	 * ȡڵĶѡ
-	 * @return ѡ
+	 * 获取窗口的动作选项
+	 * @return 选项
 	 */
 	public int getOption() {
 		return option;
@@ -249,12 +249,12 @@ public class DialogUnitConfig extends JDialog {
 	}
 
 	/**
-	 * ֻļĬΪconfigĿ¼£·Ȼstart.homeµľ·
+	 * 分机文件默认为config目录下；先找类路径，然后找start.home下的绝对路径
 	 * 
 	 * @param relativePath
-	 *            String ·
+	 *            String 相对路径
 	 * @throws Exception
-	 * @return InputStream 
+	 * @return InputStream 输入流
 	 */
 	private InputStream getUnitInputStream(String relativePath)
 			throws Exception {
@@ -330,19 +330,19 @@ public class DialogUnitConfig extends JDialog {
 		jBOK.setText(mm.getMessage("button.ok"));
 		jBCancel.setText(mm.getMessage("button.cancel"));
 
-		tabMain.setTitleAt(TAB_UNIT, mm.getMessage("dialogunitconfig.tabunit")); // ֻ
+		tabMain.setTitleAt(TAB_UNIT, mm.getMessage("dialogunitconfig.tabunit")); // 分机
 		tabMain.setTitleAt(TAB_CLIENT,
-				mm.getMessage("dialogunitconfig.tabclient")); // 
+				mm.getMessage("dialogunitconfig.tabclient")); // 白名单
 	}
 
 	private void rqInit() throws Exception {
 		jPanelButton.setLayout(new VFlowLayout());
 		jBOK.setActionCommand("");
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new DialogUnitConfig_jBOK_actionAdapter(this));
 		jBOK.setMnemonic('O');
 		jBCancel.setActionCommand("");
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new DialogUnitConfig_jBCancel_actionAdapter(
 				this));
 		jBCancel.setMnemonic('C');
@@ -509,10 +509,10 @@ public class DialogUnitConfig extends JDialog {
 			return host;
 		}
 
-		String[] ipStr = host.split("\\."); // "."ַ
+		String[] ipStr = host.split("\\."); // 以"."拆分字符串
 		int[] ipBuf = new int[4];
 		for (int n = 0; n < 4; n++) {
-			ipBuf[n] = (Integer.parseInt(ipStr[n]) & 0xFF); // С
+			ipBuf[n] = (Integer.parseInt(ipStr[n]) & 0xFF); // 调整整数大小。
 		}
 		if (ipBuf[3] == 255) {
 			ipBuf[3] = 1;
@@ -27,49 +27,49 @@ import com.scudata.ide.common.swing.VFlowLayout;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * ϴFTPĽԻ
+ * 上传到FTP的结果对话框
  *
  */
 public class DialogUploadResult extends JDialog implements ActionListener {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * رհť
+	 * 关闭按钮
 	 */
 	private JButton jBClose = new JButton();
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	private MessageManager mm = IdeSplMessage.get();
 
-	/**  */
+	/** 序号列 */
 	private final int COL_INDEX = 0;
-	/**  */
+	/** 主机名列 */
 	private final int COL_HOST = 1;
-	/** û */
+	/** 用户列 */
 	private final int COL_USER = 2;
-	/**  */
+	/** 结果列 */
 	private final int COL_RESULT = 3;
-	/** 쳣Ϣ */
+	/** 异常信息列 */
 	private final int COL_EXCEPTION = 4;
 
-	/**  */
+	/** 序号 */
 	private final String TITLE_INDEX = mm
 			.getMessage("dialoguploadresult.index");
-	/**  */
+	/** 主机名 */
 	private final String TITLE_HOST = mm
 			.getMessage("dialoguploadresult.hostname");
-	/** û */
+	/** 用户 */
 	private final String TITLE_USER = mm.getMessage("dialoguploadresult.user");
-	/**  */
+	/** 结果 */
 	private final String TITLE_RESULT = mm
 			.getMessage("dialoguploadresult.result");
-	/** 쳣Ϣ */
+	/** 异常信息 */
 	private final String TITLE_EXCEPTION = mm
 			.getMessage("dialoguploadresult.exception");
 
 	/**
-	 * ؼ
+	 * 结果表控件
 	 */
 	private JTableEx tableResult = new JTableEx(TITLE_INDEX + "," + TITLE_HOST
 			+ "," + TITLE_USER + "," + TITLE_RESULT + "," + TITLE_EXCEPTION) {
@@ -93,20 +93,20 @@ public class DialogUploadResult extends JDialog implements ActionListener {
 	};
 
 	/**
-	 * ˳ѡ
+	 * 退出选项
 	 */
 	private int m_option = JOptionPane.CLOSED_OPTION;
-	/** ɹ */
+	/** 成功 */
 	private final String S_SUCCESS = mm
 			.getMessage("dialoguploadresult.success");
-	/** ʧ */
+	/** 失败 */
 	private final String S_FAILD = mm.getMessage("dialoguploadresult.faild");
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogUploadResult() {
-		super(GV.appFrame, "浽FTP", true);
+		super(GV.appFrame, "保存到FTP结果", true);
 		try {
 			init();
 			setSize(600, 300);
@@ -118,14 +118,14 @@ public class DialogUploadResult extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ý
+	 * 设置结果
 	 * 
 	 * @param ftpInfos
-	 *            FTPϢ
+	 *            FTP服务信息
 	 * @param successed
-	 *            Ƿϴɹ
+	 *            是否上传成功
 	 * @param exceptions
-	 *            쳣Ϣ
+	 *            异常信息
 	 */
 	public void setResult(FTPInfo[] ftpInfos, boolean[] successed,
 			String[] exceptions) {
@@ -140,15 +140,15 @@ public class DialogUploadResult extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * Դ
+	 * 重设语言资源
 	 */
 	private void resetText() {
 		jBClose.setText(mm.getMessage("button.close"));
-		setTitle(mm.getMessage("dialoguploadresult.title"));// 浽FTP
+		setTitle(mm.getMessage("dialoguploadresult.title"));// 保存到FTP结果
 	}
 
 	/**
-	 * ȡ˳ѡ
+	 * 取退出选项
 	 * 
 	 * @return
 	 */
@@ -157,14 +157,14 @@ public class DialogUploadResult extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 * 
 	 * @throws Exception
 	 */
 	private void init() throws Exception {
 		JPanel panelEast = new JPanel(new VFlowLayout());
 		jBClose.setMnemonic('C');
-		jBClose.setText("ر(C)");
+		jBClose.setText("关闭(C)");
 		jBClose.addActionListener(this);
 		this.getContentPane().add(panelEast, BorderLayout.EAST);
 		panelEast.add(jBClose, null);
@@ -200,7 +200,7 @@ public class DialogUploadResult extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ڹر¼
+	 * 窗口关闭事件
 	 * 
 	 * @param e
 	 */
@@ -210,7 +210,7 @@ public class DialogUploadResult extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ؼ¼
+	 * 控件事件
 	 */
 	public void actionPerformed(ActionEvent e) {
 		Object src = e.getSource();
@@ -23,30 +23,30 @@ import com.scudata.ide.spl.base.JTableView;
 import com.scudata.ide.spl.resources.IdeSplMessage;
 
 /**
- * 鿴ֵԻ
+ * 查看变量值对话框
  *
  */
 public class DialogViewValue extends JDialog implements ActionListener {
 	private static final long serialVersionUID = 1L;
 	/**
-	 * ˰ť
+	 * 后退按钮
 	 */
 	private JButton jBUndo = new JButton();
 	/**
-	 * ǰť
+	 * 前进按钮
 	 */
 	private JButton jBRedo = new JButton();
 	/**
-	 * ưť
+	 * 复制按钮
 	 */
 	private JButton jBCopy = new JButton();
 	/**
-	 * رհť
+	 * 关闭按钮
 	 */
 	private JButton jBClose = new JButton();
 
 	/**
-	 * ؼ
+	 * 表格控件
 	 */
 	private JTableView tableValue = new JTableView() {
 		private static final long serialVersionUID = 1L;
@@ -60,15 +60,15 @@ public class DialogViewValue extends JDialog implements ActionListener {
 	};
 
 	/**
-	 * Դ
+	 * 集算器资源管理器
 	 */
 	private MessageManager splMM = IdeSplMessage.get();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public DialogViewValue() {
-		super(GV.appFrame, IdeSplMessage.get().getMessage("dialogviewvalue.title"), true);// 鿴ֵ
+		super(GV.appFrame, IdeSplMessage.get().getMessage("dialogviewvalue.title"), true);// 查看变量值
 		init();
 		setSize(400, 300);
 		GM.setDialogDefaultButton(this, new JButton(), jBClose);
@@ -76,7 +76,7 @@ public class DialogViewValue extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * Ҫ鿴ֵ
+	 * 设置要查看的值
 	 * 
 	 * @param value
 	 */
@@ -85,26 +85,26 @@ public class DialogViewValue extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ʼ
+	 * 初始化
 	 */
 	private void init() {
 		this.getContentPane().setLayout(new BorderLayout());
 		JPanel panelNorth = new JPanel(new GridBagLayout());
 		panelNorth.add(new JLabel(), getGBC(1, 1, true));
 		jBUndo.setIcon(GM.getImageIcon(GC.IMAGES_PATH + "m_pmtundo.gif"));
-		jBUndo.setToolTipText(splMM.getMessage("panelvaluebar.undo")); // 
+		jBUndo.setToolTipText(splMM.getMessage("panelvaluebar.undo")); // 后退
 		initButton(jBUndo);
 		panelNorth.add(jBUndo, getGBC(1, 2));
 		jBRedo.setIcon(GM.getImageIcon(GC.IMAGES_PATH + "m_pmtredo.gif"));
-		jBRedo.setToolTipText(splMM.getMessage("panelvaluebar.redo")); // ǰ
+		jBRedo.setToolTipText(splMM.getMessage("panelvaluebar.redo")); // 前进
 		initButton(jBRedo);
 		panelNorth.add(jBRedo, getGBC(1, 3));
 		jBCopy.setIcon(GM.getMenuImageIcon("copy"));
-		jBCopy.setToolTipText(splMM.getMessage("panelvaluebar.copy")); // 
+		jBCopy.setToolTipText(splMM.getMessage("panelvaluebar.copy")); // 复制
 		initButton(jBCopy);
 		panelNorth.add(jBCopy, getGBC(1, 4));
 		jBClose.setIcon(GM.getMenuImageIcon("quit"));
-		jBClose.setToolTipText(splMM.getMessage("panelvaluebar.quit")); // ˳
+		jBClose.setToolTipText(splMM.getMessage("panelvaluebar.quit")); // 退出
 		initButton(jBClose);
 		jBClose.setEnabled(true);
 		panelNorth.add(jBClose, getGBC(1, 5));
@@ -113,7 +113,7 @@ public class DialogViewValue extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ʼť
+	 * 初始化按钮
 	 * 
 	 * @param button
 	 */
@@ -127,10 +127,10 @@ public class DialogViewValue extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ȡɲ
+	 * 取自由布局
 	 * 
-	 * @param r к
-	 * @param c к
+	 * @param r 行号
+	 * @param c 列号
 	 * @return
 	 */
 	private GridBagConstraints getGBC(int r, int c) {
@@ -138,11 +138,11 @@ public class DialogViewValue extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ȡɲ
+	 * 取自由布局
 	 *
-	 * @param r к
-	 * @param c к
-	 * @param b Ƿ
+	 * @param r 行号
+	 * @param c 列号
+	 * @param b 是否横向扩充
 	 * @return
 	 */
 	private GridBagConstraints getGBC(int r, int c, boolean b) {
@@ -152,7 +152,7 @@ public class DialogViewValue extends JDialog implements ActionListener {
 	}
 
 	/**
-	 * ؼ¼
+	 * 控件的事件
 	 */
 	public void actionPerformed(ActionEvent e) {
 		Object src = e.getSource();
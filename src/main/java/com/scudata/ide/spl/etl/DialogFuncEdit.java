@@ -13,8 +13,8 @@ import com.scudata.ide.common.swing.*;
 import com.scudata.ide.spl.resources.*;
 
 /**
- * SPL
- * ༭
+ * SPL函数辅助开发
+ * 界面编辑器
  * @author Joancy
  *
  */
@@ -27,21 +27,21 @@ public class DialogFuncEdit extends JDialog {
 	JButton okbtn = new JButton();
 	JButton cancelbtn = new JButton();
 	ParamInputPanel propPanel;
-	JLabel lbCellNames = new JLabel("ѡԪ");
+	JLabel lbCellNames = new JLabel("请选择单元格：");
 	JComboBoxEx jCBCellNames = new JComboBoxEx();
-	JLabel lbFuncNames = new JLabel("ѡ");
+	JLabel lbFuncNames = new JLabel("请选择函数：");
 	JComboBoxEx jCBElementNames = new JComboBoxEx();
 
 	transient HashMap<String, ObjectElement> cellNames = null;
 	transient ObjectElement oe;
 
 	/**
-	 * 캯
-	 * @param cellNames ÿָ֧ĵԪָԪصӳ
-	 * @param currentOe ǰ༭ĺԪ
+	 * 构造函数
+	 * @param cellNames 每个支持辅助函数的单元格名字跟函数对象元素的映射
+	 * @param currentOe 当前编辑的函数对象元素
 	 */
 	public DialogFuncEdit(HashMap<String, ObjectElement> cellNames,ObjectElement currentOe) {
-		super(GV.appFrame, "༭", true);
+		super(GV.appFrame, "函数编辑", true);
 		try {
 			this.cellNames = cellNames;
 			this.oe = currentOe;
@@ -67,7 +67,7 @@ public class DialogFuncEdit extends JDialog {
 		lbUrl.setForeground(Color.blue);
 		lbUrl.setBorder(null);
 
-		okbtn.setText(ChartMessage.get().getMessage("button.ok")); // "ȷ(O)" );
+		okbtn.setText(ChartMessage.get().getMessage("button.ok")); // "确定(O)" );
 		okbtn.setPreferredSize(new Dimension(70, 25));
 		okbtn.setMargin(new Insets(2, 10, 2, 10));
 		okbtn.addActionListener(new java.awt.event.ActionListener() {
@@ -75,7 +75,7 @@ public class DialogFuncEdit extends JDialog {
 				okbtn_actionPerformed(e);
 			}
 		});
-		cancelbtn.setText(ChartMessage.get().getMessage("button.cancel")); // "ȡ(C)"
+		cancelbtn.setText(ChartMessage.get().getMessage("button.cancel")); // "取消(C)"
 		cancelbtn.addActionListener(new java.awt.event.ActionListener() {
 			public void actionPerformed(ActionEvent e) {
 				cancelbtn_actionPerformed(e);
@@ -135,9 +135,9 @@ public class DialogFuncEdit extends JDialog {
 	}
 	
 	/**
-	 * ӳнеԪгcellTypesƹΪб
-	 * @param cellTypes Ԫ
-	 * @return б
+	 * 从映射表中将所有单元格的名字列出来，并将符合类型cellTypes的名称构造为下拉列表
+	 * @param cellTypes 单元格类型
+	 * @return 名称下拉列表
 	 */
 	public JComboBoxEx getCellNameDropdownBox(byte[] cellTypes){
 		Vector<String> scodes = new Vector<String>(),sdisps = new Vector<String>();
@@ -147,7 +147,7 @@ public class DialogFuncEdit extends JDialog {
 			ArrayList<String> ans = getAncestorNames();
 			while (it.hasNext()) {
 				String name = it.next();
-				if(ans.contains(name)){//ҪгӲܰǰӵȸ񣬷Ƕ
+				if(ans.contains(name)){//要列出的下拉格子不能包含当前格子的祖先格，否则就嵌套了
 					continue;
 				}
 				names.add(name);
@@ -246,7 +246,7 @@ public class DialogFuncEdit extends JDialog {
 			Object dispItem = jCBElementNames.getItemAt(0);
 			jCBElementNames.x_setSelectedCodeItem(dispItem);
 		} else {
-			//ж޸Ϊͬ͵ĸ
+			//打开已有对象后，允许修改为同类型的格子
 			Vector<String> vNames = new Vector<String>();
 			Vector<String> vTitles = new Vector<String>();
 			
@@ -296,16 +296,16 @@ public class DialogFuncEdit extends JDialog {
 	}
 
 	/**
-	 * ȡڷصĶѡ
-	 * @return ѡ
+	 * 获取窗口返回的动作选项
+	 * @return 选项
 	 */
 	public int getOption() {
 		return m_option;
 	}
 
 	/**
-	 * ȡǰ༭Ԫ
-	 * @return Ԫ
+	 * 获取当前编辑函数对象元素
+	 * @return 函数对象元素
 	 */
 	public ObjectElement getObjectElement() {
 		String cellName = (String) jCBCellNames.x_getSelectedItem();
@@ -314,7 +314,7 @@ public class DialogFuncEdit extends JDialog {
 	}
 
 	/**
-	 * ǰĺԪʾ
+	 * 将当前的函数对象元素内容显示到参数面板
 	 */
 	public void dispDetail() {
 		String funcTitle = (String) jCBElementNames.getSelectedItem();
@@ -1,7 +1,7 @@
 package com.scudata.ide.spl.etl;
 
 /**
- * ԪϢ
+ * 元素信息类
  * 
  * @author Joancy
  *
@@ -14,8 +14,8 @@ public class ElementInfo {
 	transient ObjectElement instance = null;
 	
 	/**
-	 * 캯
-	 * @param name 
+	 * 构造函数
+	 * @param name 名称
 	 */
 	public ElementInfo(String name) {
 		this.name = name;
@@ -25,10 +25,10 @@ public class ElementInfo {
 	}
 
 	/**
-	 * 캯
-	 * @param name 
-	 * @param title 
-	 * @param elementClass ӦClass
+	 * 构造函数
+	 * @param name 名称
+	 * @param title 标题
+	 * @param elementClass 对应Class
 	 */
 	public ElementInfo(String name, String title, Class elementClass) {
 		this.name = name;
@@ -37,24 +37,24 @@ public class ElementInfo {
 	}
 
 	/**
-	 * ĸ
-	 * @return 
+	 * 函数的父类型
+	 * @return 类型
 	 */
 	public byte getParentType(){
 		return getInstance().getParentType();
 	}
 	
 	/**
-	 * ʵ
-	 * @return 
+	 * 函数的实体名称
+	 * @return 函数名称
 	 */
 	public String getFuncName(){
 		return getInstance().getFuncName();
 	}
 
 	/**
-	 * õһǰϢΨһԪʵ
-	 * @return ʵ
+	 * 得到一个当前信息的唯一对象元素实例
+	 * @return 实例
 	 */
 	public ObjectElement getInstance(){
 		if(instance==null){
@@ -64,8 +64,8 @@ public class ElementInfo {
 	}
 	
 	/**
-	 * ½һԪʵ
-	 * @return ʵ
+	 * 新建一个元素实例
+	 * @return 实例
 	 */
 	public ObjectElement newInstance() {
 		try {
@@ -79,23 +79,23 @@ public class ElementInfo {
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取名称
+	 * @return 名称
 	 */
 	public String getName() {
 		return name;
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取标题
+	 * @return 标题
 	 */
 	public String getTitle() {
 		return title;
 	}
 
 	/**
-	 * ȡԪصClass
+	 * 获取元素的类Class
 	 * @return Class
 	 */
 	public Class getElementClass() {
@@ -11,9 +11,9 @@ import java.util.jar.JarFile;
 import com.scudata.common.MessageManager;
 
 /**
- * Ѿʵ˸༭ĺ
+ * 已经实现了辅助编辑的函数
  * 
- * Ҫ̬ǼǵԪؿ
+ * 都需要动态登记到元素库
  * 
  * @author Joancy
  *
@@ -38,11 +38,11 @@ public class ElementLib {
 	}
 
 	/**
-	 * ҵӦԪϢ
+	 * 根据名称找到对应的元素信息
 	 * 
 	 * @param name
-	 *            
-	 * @return ԪϢ
+	 *            函数名
+	 * @return 元素信息
 	 */
 	public static ElementInfo getElementInfo(String name) {
 		int i = indexof(name);
@@ -52,10 +52,10 @@ public class ElementLib {
 	}
 
 	/**
-	 * ׷һԪ
+	 * 追加一个元素
 	 * 
 	 * @param name
-	 *            Ԫ
+	 *            元素名
 	 */
 	public static void addElement(String name) {
 		try {
@@ -77,11 +77,11 @@ public class ElementLib {
 	}
 
 	/**
-	 * ݸгغϢб
+	 * 根据父类型列出所有相关函数信息的列表
 	 * 
 	 * @param parentType
-	 *            
-	 * @return ӦԪϢб
+	 *            父类型
+	 * @return 对应的元素信息列表
 	 */
 	public static ArrayList<ElementInfo> getElementInfos(byte parentType) {
 		ArrayList<ElementInfo> eis = new ArrayList<ElementInfo>();
@@ -94,11 +94,11 @@ public class ElementLib {
 	}
 
 	/**
-	 * ݺгͬԪϢgroupαԼͶиú
+	 * 根据函数名称列出同名的元素信息，比如group，游标以及序表类型都有该函数
 	 * 
 	 * @param funcName
-	 *            
-	 * @return ԪϢ
+	 *            函数名
+	 * @return 元素信息
 	 */
 	public static ArrayList<ElementInfo> getElementInfos(String funcName) {
 		ArrayList<ElementInfo> eis = new ArrayList<ElementInfo>();
@@ -111,7 +111,7 @@ public class ElementLib {
 	}
 
 	/**
-	 * װϵͳĿ¼ȫʵָ༭ĺԪ ·/com/scudata/ide/spl/etl/element
+	 * 装载系统目录下全部实现辅助编辑的函数元素 路径：/com/scudata/ide/spl/etl/element
 	 */
 	public static void loadSystemElements() {
 		String names = "ACreate,ADelete,ADerive,AGroup,AGroup2,AGroups,AInsert,"
@@ -8,7 +8,7 @@ import com.scudata.ide.common.swing.*;
 import com.scudata.ide.spl.chart.box.EachRowEditor;
 
 /**
- * ԿԪ༭
+ * 属性框单元编辑器
  */
 public class EtlRowEditor extends EachRowEditor {
 	private TableCellEditor fieldDefineEditor;
@@ -19,18 +19,18 @@ public class EtlRowEditor extends EachRowEditor {
 	private TableCellEditor cellCtxEditor,dbEditor,cellXlsEditor;
 
 	/**
-	 * 캯
-	 * @param table 
-	 * @param editTypeCol ༭
-	 * @param owner 
+	 * 构造函数
+	 * @param table 本表
+	 * @param editTypeCol 编辑类型列
+	 * @param owner 父窗口
 	 */
 	public EtlRowEditor(JTableEx table, int editTypeCol, Dialog owner) {
 		super(table, editTypeCol, owner);
 	}
 
 	/**
-	 * ݱ༭ѡӦ༭
-	 * @param editType ༭
+	 * 根据编辑类型选出对应编辑器
+	 * @param editType 编辑类型
 	 */
 	public TableCellEditor selectEditor(int editType) {
 		TableCellEditor editor1 = super.selectEditor(editType);
@@ -109,8 +109,8 @@ public class EtlRowEditor extends EachRowEditor {
 			break;
 		case EtlConsts.INPUT_CELLBCTX:
 			if (cellCtxEditor == null) {
-//				ֻͳEtlConsts.TYPE_FILEΪûļɶļҲǱûչȡ
-//				ûԼҪѡΪBTX
+//				只能笼统用EtlConsts.TYPE_FILE，因为没法分清具体文件类型是啥，文件名也可以是变量，没法从扩展名获取
+//				得用户自己清楚要选的为BTX
 				JComboBoxEx box = ((DialogFuncEdit)owner).getCellNameDropdownBox(
 						new byte[]{EtlConsts.TYPE_CTX,EtlConsts.TYPE_FILE});
 				cellCtxEditor = new JComboBoxExEditor(box);
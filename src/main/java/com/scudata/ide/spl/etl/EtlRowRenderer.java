@@ -9,7 +9,7 @@ import com.scudata.ide.common.swing.JComboBoxExRenderer;
 import com.scudata.ide.spl.chart.box.EachRowRenderer;
 
 /**
- * ԿԪȾ
+ * 属性框单元渲染器
  */
 public class EtlRowRenderer extends EachRowRenderer {
 	private TableCellRenderer fieldDefineRender;
@@ -21,9 +21,9 @@ public class EtlRowRenderer extends EachRowRenderer {
 
 	Dialog owner;
 	/**
-	 * 캯
-	 * @param editTypeCol ༭
-	 * @param owner 
+	 * 构造函数
+	 * @param editTypeCol 编辑类型列
+	 * @param owner 父窗口
 	 */
 	public EtlRowRenderer(int editTypeCol,Dialog owner) {
 		super(editTypeCol);
@@ -31,8 +31,8 @@ public class EtlRowRenderer extends EachRowRenderer {
 	}
 
 	/**
-	 * ݱ༭editTypeѡӦȾ
-	 * @param editType ༭
+	 * 根据编辑类型editType选择对应的渲染器
+	 * @param editType 编辑类型
 	 */
 	public TableCellRenderer selectRenderer(int editType) {
 		TableCellRenderer render1 = super.selectRenderer(editType);
@@ -22,7 +22,7 @@ import com.scudata.ide.common.swing.JTableEx;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ֶʱֶʽĶԻ
+ * 导出字段时，定义字段名跟表达式的对话框
  * 
  * @author Joancy
  *
@@ -49,9 +49,9 @@ public class ExportFieldsDialog extends JDialog implements IFieldDefineDialog{
 	private int m_option = JOptionPane.CANCEL_OPTION;
 	
 	/**
-	 * 캯
-	 * @param owner 
-	 * @param defineType 峣
+	 * 构造函数
+	 * @param owner 父窗口
+	 * @param defineType 定义常量类型
 	 */
 	public ExportFieldsDialog(Dialog owner,int defineType) {
 		super(owner);
@@ -87,15 +87,15 @@ public class ExportFieldsDialog extends JDialog implements IFieldDefineDialog{
 	}
 
 	/**
-	 * ȡڷصĶѡ
+	 * 获取窗口返回的动作选项
 	 */
 	public int getOption() {
 		return m_option;
 	}
 
 	/**
-	 * ֶζб
-	 * @param fields ֶζб
+	 * 设置字段定义列表
+	 * @param fields 字段定义列表
 	 */
 	public void setFieldDefines(ArrayList<FieldDefine> fields) {
 		if(fields==null){
@@ -111,8 +111,8 @@ public class ExportFieldsDialog extends JDialog implements IFieldDefineDialog{
 	}
 
 	/**
-	 * ȡ༭õֶζб
-	 * @return ֶζб
+	 * 获取编辑好的字段定义列表
+	 * @return 字段定义列表
 	 */
 	public ArrayList<FieldDefine> getFieldDefines() {
 		exportFields.acceptText();
@@ -145,7 +145,7 @@ public class ExportFieldsDialog extends JDialog implements IFieldDefineDialog{
 		setModal(true);
 		jPanel2.setLayout(vFlowLayout1);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new ActionListener(){
 			public void actionPerformed(ActionEvent e) {
 				exportFields.acceptText();
@@ -154,7 +154,7 @@ public class ExportFieldsDialog extends JDialog implements IFieldDefineDialog{
 			}
 		});
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new ActionListener(){
 			public void actionPerformed(ActionEvent e) {
 				dispose();
@@ -178,9 +178,9 @@ public class ExportFieldsDialog extends JDialog implements IFieldDefineDialog{
 		});
 		jScrollPane1.getViewport().add(exportFields);
 		jBAdd.setMnemonic('A');
-		jBAdd.setText("(A)");
+		jBAdd.setText("增加(A)");
 		jBDel.setMnemonic('D');
-		jBDel.setText("ɾ(D)");
+		jBDel.setText("删除(D)");
 		jPanel2.add(jBOK, null);
 		jPanel2.add(jBCancel, null);
 		jPanel2.add(jPanel1, null);
@@ -1,9 +1,9 @@
 package com.scudata.ide.spl.etl;
 
 /**
- * ֶζ
- * ֶͨҪƣʽʽֵ
- * ͨͨûӦı༭ֵonetwothree
+ * 字段定义类
+ * 输出字段通常需要定义名称，表达式，格式，或者其他的值
+ * 通过该类通用化相应场景的编辑，属性值按one，two，three缓存
  * @author Joancy
  *
  */
@@ -13,48 +13,48 @@ public class FieldDefine{
 	String three;
 
 	/**
-	 * ȡ1
-	 * @return ֵ
+	 * 获取第1个定义
+	 * @return 定义值
 	 */
 	public String getOne() {
 		return one;
 	}
 
 	/**
-	 * õ1
-	 * @param one ֵ
+	 * 设置第1个定义
+	 * @param one 定义值
 	 */
 	public void setOne(String one) {
 		this.one = one;
 	}
 
 	/**
-	 * ȡ2
-	 * @return ֵ
+	 * 获取第2个定义
+	 * @return 定义值
 	 */
 	public String getTwo() {
 		return two;
 	}
 
 	/**
-	 * õ2
-	 * @param two ֵ
+	 * 设置第2个定义
+	 * @param two 定义值
 	 */
 	public void setTwo(String two) {
 		this.two = two;
 	}
 
 	/**
-	 * ȡ3
-	 * @return ֵ
+	 * 获取第3个定义
+	 * @return 定义值
 	 */
 	public String getThree() {
 		return three;
 	}
 
 	/**
-	 * õ3
-	 * @param three ֵ
+	 * 设置第3个定义
+	 * @param three 定义值
 	 */
 	public void setThree(String three) {
 		this.three = three;
@@ -27,7 +27,7 @@ import com.scudata.ide.common.swing.JTableEx;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ֶζͨöԻ༭
+ * 字段定义的通用对话框编辑器
  * 
  * @author Joancy
  *
@@ -47,7 +47,7 @@ public class FieldDefineDialog extends JDialog implements IFieldDefineDialog{
 	private final byte COL_TYPE = 2;
 	private final byte COL_FORMAT = 3;
 
-	JTableEx tableFields = new JTableEx(mm.getMessage("FieldDefineDialog.tablefields")){//",ֶ,,ʽ"
+	JTableEx tableFields = new JTableEx(mm.getMessage("FieldDefineDialog.tablefields")){//"序号,字段名,数据类型,格式"
 		public void doubleClicked(int xpos, int ypos, int row, int col,
 				MouseEvent e) {
 			if (row > -1 && col==COL_FORMAT) {
@@ -70,8 +70,8 @@ public class FieldDefineDialog extends JDialog implements IFieldDefineDialog{
 	private int m_option = JOptionPane.CANCEL_OPTION;
 	
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public FieldDefineDialog(Dialog owner) {
 		super(owner);
@@ -97,16 +97,16 @@ public class FieldDefineDialog extends JDialog implements IFieldDefineDialog{
 	}
 
 	/**
-	 * ȡڷѡ
-	 * @return ѡ
+	 * 获取窗口返回选项
+	 * @return 选项
 	 */
 	public int getOption() {
 		return m_option;
 	}
 
 	/**
-	 * ֶζֵб
-	 * @param fields ֶζб
+	 * 设置字段定义值列表
+	 * @param fields 字段定义列表
 	 */
 	public void setFieldDefines(ArrayList<FieldDefine> fields) {
 		if(fields==null){
@@ -123,7 +123,7 @@ public class FieldDefineDialog extends JDialog implements IFieldDefineDialog{
 	}
 
 	/**
-	 * ȡֶζб
+	 * 获取字段定义列表
 	 */
 	public ArrayList<FieldDefine> getFieldDefines() {
 		tableFields.acceptText();
@@ -179,7 +179,7 @@ public class FieldDefineDialog extends JDialog implements IFieldDefineDialog{
 		setModal(true);
 		jPanel2.setLayout(vFlowLayout1);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new ActionListener(){
 			public void actionPerformed(ActionEvent e) {
 				tableFields.acceptText();
@@ -188,7 +188,7 @@ public class FieldDefineDialog extends JDialog implements IFieldDefineDialog{
 			}
 		});
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new ActionListener(){
 			public void actionPerformed(ActionEvent e) {
 				dispose();
@@ -212,9 +212,9 @@ public class FieldDefineDialog extends JDialog implements IFieldDefineDialog{
 		});
 		jScrollPane1.getViewport().add(tableFields);
 		jBAdd.setMnemonic('A');
-		jBAdd.setText("(A)");
+		jBAdd.setText("增加(A)");
 		jBDel.setMnemonic('D');
-		jBDel.setText("ɾ(D)");
+		jBDel.setText("删除(D)");
 		jPanel2.add(jBOK, null);
 		jPanel2.add(jBCancel, null);
 		jPanel2.add(jPanel1, null);
@@ -6,7 +6,7 @@ import java.util.ArrayList;
 import javax.swing.*;
 
 /**
- * ֶζ༭
+ * 字段定义编辑器
  * 
  * @author Joancy
  *
@@ -22,9 +22,9 @@ public class FieldDefineEditor extends DefaultCellEditor {
 	int defineType;
 	
 	/**
-	 * 캯
-	 * @param owner 
-	 * @param defineType 
+	 * 构造函数
+	 * @param owner 父窗口
+	 * @param defineType 定义类型
 	 */
 	public FieldDefineEditor(Dialog owner,int defineType) {
 		super(new JCheckBox());
@@ -68,7 +68,7 @@ public class FieldDefineEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ʵָĳ󷽷
+	 * 实现父类的抽象方法
 	 */
 	public Component getTableCellEditorComponent(JTable table, Object value,
 			boolean isSelected, int row, int column) {
@@ -84,14 +84,14 @@ public class FieldDefineEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 获取编辑值
 	 */
 	public Object getCellEditorValue() {
 		return editingVal;
 	}
 
 	/**
-	 * ֹͣǰ༭
+	 * 停止当前编辑
 	 */
 	public boolean stopCellEditing() {
 		return super.stopCellEditing();
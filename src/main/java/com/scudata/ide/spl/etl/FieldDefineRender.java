@@ -10,7 +10,7 @@ import com.scudata.ide.common.swing.*;
 import com.scudata.ide.spl.etl.element.FImport;
 
 /**
- * ֶζĵԪȾ
+ * 字段定义的单元格渲染器
  * 
  * @author Joancy
  *
@@ -20,7 +20,7 @@ public class FieldDefineRender extends JLabel implements TableCellRenderer {
 	private FieldDefineIcon icon = new FieldDefineIcon();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public FieldDefineRender() {
 		setOpaque(true);
@@ -29,7 +29,7 @@ public class FieldDefineRender extends JLabel implements TableCellRenderer {
 	}
 
 	/**
-	 * ʵָĳ󷽷
+	 * 实现父类的抽象方法
 	 */
 	public Component getTableCellRendererComponent(JTable table, Object value,
 			boolean isSelected, boolean hasFocus, int row, int column) {
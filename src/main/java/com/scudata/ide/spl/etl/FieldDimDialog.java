@@ -22,7 +22,7 @@ import com.scudata.ide.common.swing.JTableEx;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ֶζάʽ༭Ի
+ * 字段定义的维格式编辑对话框
  * 
  * @author Joancy
  *
@@ -41,7 +41,7 @@ public class FieldDimDialog extends JDialog implements IFieldDefineDialog{
 	private final byte COL_FIELD = 1;
 	private final byte COL_DIM = 2;
 
-	JTableEx exportFields = new JTableEx(mm.getMessage("FieldDimDialog.exportfields"));//",ֶ,ά");
+	JTableEx exportFields = new JTableEx(mm.getMessage("FieldDimDialog.exportfields"));//"序号,字段名,维");
 	JPanel jPanel1 = new JPanel();
 	JButton jBAdd = new JButton();
 	JButton jBDel = new JButton();
@@ -51,8 +51,8 @@ public class FieldDimDialog extends JDialog implements IFieldDefineDialog{
 	private int m_option = JOptionPane.CANCEL_OPTION;
 	
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public FieldDimDialog(Dialog owner) {
 		super(owner);
@@ -80,15 +80,15 @@ public class FieldDimDialog extends JDialog implements IFieldDefineDialog{
 	}
 
 	/**
-	 * ȡڷصѡ
-	 * @return ѡ
+	 * 获取窗口返回的选项
+	 * @return 选项
 	 */
 	public int getOption() {
 		return m_option;
 	}
 
 	/**
-	 * ֶζбֵ
+	 * 设置字段定义列表值
 	 */
 	public void setFieldDefines(ArrayList<FieldDefine> fields) {
 		if(fields==null){
@@ -104,7 +104,7 @@ public class FieldDimDialog extends JDialog implements IFieldDefineDialog{
 	}
 
 	/**
-	 * ȡάֶθʽֶζб
+	 * 获取维字段格式的字段定义列表
 	 */
 	public ArrayList<FieldDefine> getFieldDefines() {
 		exportFields.acceptText();
@@ -142,7 +142,7 @@ public class FieldDimDialog extends JDialog implements IFieldDefineDialog{
 		setModal(true);
 		jPanel2.setLayout(vFlowLayout1);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new ActionListener(){
 			public void actionPerformed(ActionEvent e) {
 				exportFields.acceptText();
@@ -151,7 +151,7 @@ public class FieldDimDialog extends JDialog implements IFieldDefineDialog{
 			}
 		});
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new ActionListener(){
 			public void actionPerformed(ActionEvent e) {
 				dispose();
@@ -185,13 +185,13 @@ public class FieldDimDialog extends JDialog implements IFieldDefineDialog{
 		});
 		jScrollPane1.getViewport().add(exportFields);
 		jBAdd.setMnemonic('A');
-		jBAdd.setText("(A)");
+		jBAdd.setText("增加(A)");
 		jBDel.setMnemonic('D');
-		jBDel.setText("ɾ(D)");
+		jBDel.setText("删除(D)");
 		jBShiftUp.setMnemonic('U');
-		jBShiftUp.setText("(U)");
+		jBShiftUp.setText("上移(U)");
 		jBShiftDown.setMnemonic('N');
-		jBShiftDown.setText("(N)");
+		jBShiftDown.setText("下移(N)");
 		jPanel2.add(jBOK, null);
 		jPanel2.add(jBCancel, null);
 		jPanel2.add(jPanel1, null);
@@ -5,7 +5,7 @@ import java.util.Locale;
 import com.scudata.common.*;
 
 /**
- * Դ༭
+ * 辅助函数的资源编辑类
  * @author Joancy
  *
  */
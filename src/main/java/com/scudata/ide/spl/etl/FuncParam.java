@@ -5,26 +5,26 @@ import com.scudata.dm.*;
 import com.scudata.util.*;
 
 /**
- * Ĳֵ
+ * 函数的参数名跟值对
  * 
- * valueΪַʱA1ʾ봮=A1ʾʽ 
- * 洢plotַʱֱΪ "A1" A1
+ * value为字符串的时候，A1表示输入串，=A1表示输入表达式 
+ * 存储在plot字符串函数时，分别为： "A1"， A1
  */
 public class FuncParam {
-	// ƣòֱΪ༭Ԫ
+	// 参数名称，该参数名称直接为编辑元的属性名称
 	protected String name;
 	protected Object value;
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public FuncParam() {
 	}
 
 	/**
-	 * 캯
-	 * @param name 
-	 * @param value ֵ
+	 * 构造函数
+	 * @param name 参数名
+	 * @param value 参数值
 	 */
 	public FuncParam(String name, Object value) {
 		this.name = name;
@@ -32,45 +32,45 @@ public class FuncParam {
 	}
 
 	/**
-	 * ò
-	 * @param name 
+	 * 设置参数名称
+	 * @param name 名称
 	 */
 	public void setName(String name) {
 		this.name = name;
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取参数名
+	 * @return 名称
 	 */
 	public String getName() {
 		return name;
 	}
 
 	/**
-	 * òֵ
-	 * @param value ֵ
+	 * 设置参数值
+	 * @param value 参数值
 	 */
 	public void setValue(Object value) {
 		this.value = value;
 	}
 
 	/**
-	 * ȡֵ
-	 * @return ֵ
+	 * 获取参数值
+	 * @return 参数值
 	 */
 	public Object getValue() {
 		return value;
 	}
 
 	/**
-	 * ñʽеı༭תΪӦĲֵ
-	 * @param editString ༭
+	 * 设置表达式中的编辑串，转换为对应的参数值
+	 * @param editString 编辑串
 	 */
 	public void setEditString(String editString) {
 		String tmp = editString;
 
-		boolean removeEscape = !tmp.startsWith("["); // Уʱȥ
+		boolean removeEscape = !tmp.startsWith("["); // 如果是序列，则解析时不能去引号
 		value = Variant.parse(tmp, removeEscape);
 		if (value instanceof String && Variant.isEquals(tmp, value)) {
 			value = "=" + value;
@@ -106,8 +106,8 @@ public class FuncParam {
 	}
 
 	/**
-	 * ֵתΪ༭
-	 * @param defValueȱʡֵֵΪȱʡֵʱҪתȥ
+	 * 将参数值转换为编辑串
+	 * @param defValue，缺省值，参数值为缺省值时不需要转换出去
 	 * @return
 	 */
 	public String toEditString(Object defValue) {
@@ -134,7 +134,7 @@ public class FuncParam {
 	}
 
 	/**
-	 * ʵָtoStringӿ
+	 * 实现父类的toString接口
 	 */
 	public String toString() {
 		StringBuffer sb = new StringBuffer();
@@ -3,27 +3,27 @@ package com.scudata.ide.spl.etl;
 import java.util.ArrayList;
 
 /**
- * ֶζԻͨýӿں
+ * 字段定义对话框的通用接口函数
  * 
  * @author Joancy
  *
  */
 public interface IFieldDefineDialog{
 	/**
-	 * ֶζб
-	 * @param fields ֶζб
+	 * 设置字段定义列表
+	 * @param fields 字段定义列表
 	 */
 	public void setFieldDefines(ArrayList<FieldDefine> fields);
 	
 	/**
-	 * ȡ༭õֶζб
-	 * @return ֶζб
+	 * 获取编辑好的字段定义列表
+	 * @return 字段定义列表
 	 */
 	public ArrayList<FieldDefine> getFieldDefines();
 	
 	/**
-	 * شڵĶѡ
-	 * @return ѡ
+	 * 返回窗口的动作选项
+	 * @return 选项
 	 */
 	public int getOption();
 }
\ No newline at end of file
@@ -1,21 +1,21 @@
 package com.scudata.ide.spl.etl;
 
 /**
- * ͨýӿ
+ * 辅助函数的通用接口
  * 
  * @author Joancy
  *
  */
 public interface IFuncObject{
 	/**
-	 * úڵĸ
-	 * @return 
+	 * 该函数所隶属于的父类型
+	 * @return 类型
 	 */
 	public byte getParentType();
 	
 	/**
-	 * úص
-	 * @return 
+	 * 该函数返回的类型
+	 * @return 类型
 	 */
 	public byte getReturnType();
 }
\ No newline at end of file
@@ -15,7 +15,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.ide.common.GC;
 
 /**
- * ĶԪػ
+ * 辅助函数的对象元素基类
  * 
  * cellName.funcName(args...)
  * @author Joancy
@@ -26,20 +26,20 @@ public abstract class ObjectElement implements IFuncObject{
 	public static String SNULL = "_NULL_";
 	
 	String elementName;
-	String cellName = null;//֣ Ӧںʵ
+	String cellName = null;//格子名字， 对应于函数的实例格子
 
-	public abstract byte getReturnType();//
-	public abstract String getFuncName();//д
-	public abstract String getFuncBody();//ʽ
-	public abstract String optionString();//ѡ
-	public void checkEmpty(){};//Աֵ
+	public abstract byte getReturnType();//函数返回类型
+	public abstract String getFuncName();//函数书写名称
+	public abstract String getFuncBody();//函数体表达式
+	public abstract String optionString();//函数选项
+	public void checkEmpty(){};//属性必填项空值检查
 	
-	public abstract ParamInfoList getParamInfoList();//б
-	public abstract boolean setFuncBody(String funcBody);//
+	public abstract ParamInfoList getParamInfoList();//参数列表
+	public abstract boolean setFuncBody(String funcBody);//函数体
 	
 	/**
-	 * úѡ
-	 * @param options ѡ
+	 * 设置函数的选项
+	 * @param options 选项
 	 */
 	public void setOptions(String options){
 		if(options==null){
@@ -54,7 +54,7 @@ public abstract class ObjectElement implements IFuncObject{
 			String fieldName = pi.getName();
 			try {
 				Field  fieldOption = getClass().getField(fieldName);
-//				01ѡΪӦӢ
+//				0和1选项的属性名为对应的英文
 				if(fieldName.equals("zero")){
 					fieldName = "0";
 				}else if(fieldName.equals("one")){
@@ -70,8 +70,8 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * תΪʽʹ
-	 * @return ʽ
+	 * 将函数定义转换为表达式类型串
+	 * @return 表达式串
 	 */
 	public String toExpressionString() {
 		StringBuffer sb = new StringBuffer();
@@ -96,36 +96,36 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * Ԫ
+	 * 设置元素名称
 	 * 
-	 * ԪֲͬںfuncName funcNameԲΨһ ԪֱΨһ
-	 * ڽͬ⣻ 磬 db.query(sql, arg)  db.query(A,sql,arg);
-	 * ˴dbΪcellName queryΪfuncNameҪ壻elementNameΪ  SQLQuery SequenceQueryֲͬĺ
-	 * @param eleName Ԫ
+	 * 元素名字不同于函数名funcName， funcName可以不唯一； 但是元素名字必须唯一
+	 * 用于解决同名函数问题； 比如， db.query(sql, arg)  db.query(A,sql,arg);
+	 * 此处db为cellName， query为funcName，不需要定义；而elementName则可能为  SQLQuery， SequenceQuery，用于区分不同的函数体
+	 * @param eleName 元素名称
 	 */
 	public void setElementName(String eleName){
 		this.elementName = eleName;
 	}
 	/**
-	 * ȡԪ
-	 * @return 
+	 * 获取元素名称
+	 * @return 名称
 	 */
 	public String getElementName(){
 		return elementName;
 	}
 	
 	/**
-	 * ȡϢ
-	 * Ϣ洢Դļʾڱ༭
-	 * @return Ϣ
+	 * 获取函数的描述信息
+	 * 该信息存储在资源文件，显示在编辑窗口
+	 * @return 描述信息
 	 */
 	public String getFuncDesc(){
 		return mm.getMessage(elementName+".desc");
 	}
 	
 	/**
-	 * ȡúİ
-	 * @return ӵַ
+	 * 获取该函数的帮助链接
+	 * @return 链接地址
 	 */
 	public String getHelpUrl(){
 		String url = mm.getMessage(elementName+".url");
@@ -140,14 +140,14 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * õԪ
-	 * @param cellName 
+	 * 设置单元格名称
+	 * @param cellName 名称
 	 */
 	public void setCellName(String cellName){
 		this.cellName = cellName;
 	}
 	/**
-	 * ȡԪ
+	 * 获取单元格名称
 	 * @return
 	 */
 	public String getCellName(){
@@ -155,8 +155,8 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * òϢб
-	 * @param paramInfos Ϣб
+	 * 设置参数信息列表
+	 * @param paramInfos 参数信息列表
 	 */
 	public void setParamInfoList(ArrayList<ParamInfo> paramInfos){
 		Sequence params = new Sequence();
@@ -187,7 +187,7 @@ public abstract class ObjectElement implements IFuncObject{
 					f.set(elementObject, new Float(p.floatValue()));
 				} else if (className.endsWith("double")) {
 					f.set(elementObject, new java.lang.Double(p.doubleValue()));
-				} else if (className.endsWith(".color")) {// ϵͲchartcolorcolor
+				} else if (className.endsWith(".color")) {// 加上点就不会把chartcolor当成color了
 					f.set(elementObject, p.colorValue(0));
 				} else if (className.endsWith("string")) {
 					f.set(elementObject, p.stringValue());
@@ -210,10 +210,10 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 
 	/**
-	 * ֵбargsݷָseperatorƴɱʽ
-	 * @param args ֵб
-	 * @param seperator ָ
-	 * @return ʽ
+	 * 将参数值列表args根据分隔符seperator拼成表达式串
+	 * @param args 参数值列表
+	 * @param seperator 分隔符
+	 * @return 表达式串
 	 */
 	public static String getStringListExp(ArrayList<String> args,String seperator){
 		if(args==null || args.isEmpty()){
@@ -230,10 +230,10 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * getStringListExp
-	 * @param args ʽ
-	 * @param seperator ָ
-	 * @return ֵб
+	 * getStringListExp函数的逆操作
+	 * @param args 表达式串
+	 * @param seperator 分隔符
+	 * @return 参数值列表
 	 */
 	public static ArrayList<String> getStringList(String args,String seperator){
 		if(!isValidString(args)){
@@ -248,8 +248,8 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * ȡʽƴѡʾ
-	 * @return ѡʾ
+	 * 获取表达式拼串的选项表示
+	 * @return 选项表示
 	 */
 	public String getOptions(){
 		String options = optionString();
@@ -261,9 +261,9 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * ֵparamValueղʾƴΪSPLʽ
-	 * @param paramValue ֵ
-	 * @return SPLʽ
+	 * 将参数值paramValue按照参数表示规则拼为SPL表达式串
+	 * @param paramValue 参数值
+	 * @return SPL表达式串
 	 */
 	public static String getParamExp(String paramValue){
 		if(paramValue==null){
@@ -275,9 +275,9 @@ public abstract class ObjectElement implements IFuncObject{
 		return Escape.addEscAndQuote(paramValue);
 	}
 	/**
-	 * getParamExp
-	 * @param paramValue SPLʽ
-	 * @return ֵڴʾ 
+	 * getParamExp的逆操作
+	 * @param paramValue SPL表达式串
+	 * @return 参数值的内存表示 
 	 */
 	public static String getParam(String paramValue){
 		if(!isValidString(paramValue)){
@@ -290,9 +290,9 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * ֵparamValueձʽʾƴΪSPLʽ
-	 * @param paramValue ֵ
-	 * @return SPLʽ
+	 * 将参数值paramValue按照表达式表示规则拼为SPL表达式串
+	 * @param paramValue 参数值
+	 * @return SPL表达式串
 	 */
 	public static String getExpressionExp(String paramValue){
 		if(!isValidString(paramValue)){
@@ -305,9 +305,9 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * getExpressionExp
-	 * @param paramValue SPLʽ
-	 * @return ֵڴʾ 
+	 * getExpressionExp的逆操作
+	 * @param paramValue SPL表达式串
+	 * @return 参数值的内存表示 
 	 */
 	public static String getExpression(String paramValue){
 		if(!isValidString(paramValue)){
@@ -317,16 +317,16 @@ public abstract class ObjectElement implements IFuncObject{
 		int idx = 0;
 		int len = exp.length();
 		int tmp = Sentence.scanIdentifier( exp, idx );
-		if( tmp < len - 1 ) {//ʶȳȶʱǱʽ
+		if( tmp < len - 1 ) {//标识符比长度短时，则是表达式
 			return "="+paramValue;
 		}
 		return paramValue;
 	}
 	
 	/**
-	 * ֵparamValueֵʾƴΪSPLʽ
-	 * @param paramValue ֵ
-	 * @return SPLʽ
+	 * 将参数值paramValue按照数值表示规则拼为SPL表达式串
+	 * @param paramValue 参数值
+	 * @return SPL表达式串
 	 */
 	public static String getNumberExp(String paramValue){
 		if(!isValidString(paramValue)){
@@ -339,9 +339,9 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * getNumberExp
-	 * @param paramValue SPLʽ
-	 * @return ڴֵ
+	 * getNumberExp的逆操作
+	 * @param paramValue SPL表达式串
+	 * @return 内存参数值
 	 */
 	public static String getNumber(String paramValue){
 		if(!isValidString(paramValue)){
@@ -349,18 +349,18 @@ public abstract class ObjectElement implements IFuncObject{
 		}
 		try{
 			Double d = Double.valueOf(paramValue);
-			//ֱֵӷصǰʽ
+			//如果是数值，直接返回当前表达式
 			return paramValue;
 		}catch(Exception x){
-			//򵱱ʽ
+			//否则当表达式
 			return "="+paramValue;
 		}
 	}
 
 	/**
-	 * ֵfieldsձʽʾƴΪSPLʽ
-	 * @param fields ֶζб
-	 * @return SPLʽ
+	 * 将参数值fields按照表达式表示规则拼为SPL表达式串
+	 * @param fields 字段定义列表
+	 * @return SPL表达式串
 	 */
 	public static String getFieldDefineExp(ArrayList<FieldDefine> fields){
 		if(fields==null || fields.isEmpty()){
@@ -387,10 +387,10 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * getFieldDefineExp
-	 * ֶζ壬Ӵֶζб
-	 * @param fields SPLʽ
-	 * @return ֶζб
+	 * getFieldDefineExp的逆操作
+	 * 反向字段定义，从串生成字段定义列表
+	 * @param fields SPL表达式串
+	 * @return 字段定义列表
 	 */
 	public static ArrayList<FieldDefine> getFieldDefine(String fields){
 		if(!isValidString(fields)){
@@ -415,10 +415,10 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * ֵfieldsձʽʾ2ƴΪSPLʽ
-	 * FieldDefineɹ2ûֶʱȱʡʹñʽ  A:A
-	 * @param fields ֶζб
-	 * @return SPLʽ
+	 * 将参数值fields按照表达式表示规则2拼为SPL表达式串
+	 * 从FieldDefine对象生成规则2：没有字段名时，缺省使用表达式本身  A:A
+	 * @param fields 字段定义列表
+	 * @return SPL表达式串
 	 */
 	public static String getFieldDefineExp2(ArrayList<FieldDefine> fields){
 		if(fields==null || fields.isEmpty()){
@@ -443,10 +443,10 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 
 	/**
-	 * getFieldDefineExp2
-	 * ֶζ壬Ӵֶζб
-	 * @param fields SPLʽ
-	 * @return ֶζб
+	 * getFieldDefineExp2的逆操作
+	 * 反向字段定义，从串生成字段定义列表
+	 * @param fields SPL表达式串
+	 * @return 字段定义列表
 	 */
 	public static ArrayList<FieldDefine> getFieldDefine2(String fields){
 		if(!StringUtils.isValidString(fields)){
@@ -470,9 +470,9 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * жϲֵǷΪʽд
-	 * @param paramValue ֵ
-	 * @return ʽдʱtrue򷵻false
+	 * 判断参数值是否为表达式写法
+	 * @param paramValue 参数值
+	 * @return 表达式写法时返回true，否则返回false
 	 */
 	public static boolean isExpression(String paramValue){
 		if(paramValue==null){
@@ -482,10 +482,10 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * ʡмʱķָ硰A;;B, ʱ2ڣTokenizer
-	 * Ϊ˱˴Щָм NULL 
-	 * @param param ֵ
-	 * @return УĲֵ
+	 * 函数参数省略中间时，会造成连续的分隔符，比如“A;;B”, 此时第2节，用Tokenizer会跳过，
+	 * 为了避免这类情况，此处将这些分隔符中间插上 NULL 常量
+	 * @param param 参数值
+	 * @return 校正后的参数值
 	 */
 	private static String verifyParam(String param){
 		if(param.startsWith(";")){
@@ -500,7 +500,7 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * ִʱʹNULLַ
+	 * 处理字串时，使用了NULL字符串做
 	 * @param str
 	 * @return
 	 */
@@ -512,10 +512,10 @@ public abstract class ObjectElement implements IFuncObject{
 	}
 	
 	/**
-	 * ʽΪ
-	 * @param exp ʽ
-	 * @param oes б༭õĵԪӳ
-	 * @return Ԫ
+	 * 表达式串解析为函数对象
+	 * @param exp 表达式
+	 * @param oes 所有编辑好的单元格跟对象的映射表
+	 * @return 对象元素
 	 */
 	public static ObjectElement parseString(String exp, HashMap<String, ObjectElement> oes){
 		if(!isValidString(exp)){
@@ -533,14 +533,14 @@ public abstract class ObjectElement implements IFuncObject{
 		int iTmp = Sentence.scanParenthesis(exp, index);
 		if (iTmp < 0) {
 			return null;
-		} else if(iTmp<(exp.length()-1)){//ֶ֧༶д A1.import().sort()
+		} else if(iTmp<(exp.length()-1)){//不支持多级函数连写 A1.import().sort()
 			return null;
 		}
 
-		String celName = null;// A1
-		String funName = null;// create
-		String options = null;//ѡ o
-		String funBody = null;// arg1
+		String celName = null;//变量，格子名 A1
+		String funName = null;//函数名 create
+		String options = null;//选项 o
+		String funBody = null;//函数体 arg1
 
 		String tmp = exp.substring(1,index);
 		int dot1 = tmp.indexOf(".");
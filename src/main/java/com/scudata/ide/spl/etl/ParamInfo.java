@@ -9,7 +9,7 @@ import com.scudata.common.*;
 import java.awt.*;
 
 /**
- * Ϣ
+ * 参数信息
  * 
  * @author Joancy
  *
@@ -17,21 +17,21 @@ import java.awt.*;
 public class ParamInfo extends FuncParam {
 	private String title;
 	private int inputType;
-	private Object defValue;// ֻ༭õȱʡֵɾʽøֵȾֵȱʡֵһ
+	private Object defValue;// 只给编辑用的缺省值，用于删除表达式后，用该值渲染，该值跟类的缺省值一致
 
-	// ǰڻȡ࣬ҪӸиݲȡӦĶ
+	// 当前正在获取参数的类，需要从该类中根据参数名获取相应参数的定义
 	private static transient Class currentClass;
 	private static transient Object currentObj;
 	private static transient Object defaultObj;
 
 	private MessageManager mm = FuncMessage.get();
 
-	private boolean needCheckEmpty = false;//ǷҪֵΪ
+	private boolean needCheckEmpty = false;//是否需要检查属性值为空
 	
 	/**
-	 * õǰʵȡԴʱҪʵ
+	 * 设置当前对象实例，取资源时需要根据实例查找相关属性
 	 * @param objClass Class
-	 * @param obj 
+	 * @param obj 对象
 	 */
 	public static void setCurrent(Class objClass, Object obj) {
 		currentClass = objClass;
@@ -43,37 +43,37 @@ public class ParamInfo extends FuncParam {
 	}
 
 	/**
-	 * 캯
-	 * @param name 
-	 * @param needCheck ǷҪֵ
-	 * ֵڱ༭ʱֵᱨֹ˳
+	 * 构造函数
+	 * @param name 参数名
+	 * @param needCheck 是否需要检查空值
+	 * 如果检查空值，则在编辑界面时，遇到空值会报错，并阻止界面退出
 	 */
 	public ParamInfo(String name,boolean needCheck) {
 		this(name, Consts.INPUT_NORMAL,needCheck);
 	}
 	
 	/**
-	 * 캯
-	 * @param name 
+	 * 构造函数
+	 * @param name 参数名
 	 */
 	public ParamInfo(String name) {
 		this(name, Consts.INPUT_NORMAL);
 	}
 
 	/**
-	 * 캯
-	 * @param name 
-	 * @param inputType 
+	 * 构造函数
+	 * @param name 参数名
+	 * @param inputType 输入类型
 	 */
 	public ParamInfo(String name, int inputType) {
 		this(name,inputType,false);
 	}
 	
 	/**
-	 * 캯
-	 * @param name 
-	 * @param inputType 
-	 * @param needCheck Ƿֵ
+	 * 构造函数
+	 * @param name 参数名
+	 * @param inputType 输入类型
+	 * @param needCheck 是否检查空值
 	 */
 	public ParamInfo(String name, int inputType, boolean needCheck) {
 		this.name = name;
@@ -98,16 +98,16 @@ public class ParamInfo extends FuncParam {
 	}
 
 	/**
-	 * ȡȱʡֵ
-	 * @return ȱʡֵ
+	 * 获取参数的缺省值
+	 * @return 缺省值
 	 */
 	public Object getDefValue() {
 		return defValue;
 	}
 
 	/**
-	 * ú󣬽ֵǰʵ
-	 * @param fp 
+	 * 设置函数参数对象，将值赋给当前实例
+	 * @param fp 函数参数
 	 */
 	public void setFuncParam(FuncParam fp) {
 		Object tmp = fp.getValue();
@@ -115,24 +115,24 @@ public class ParamInfo extends FuncParam {
 	}
 
 	/**
-	 * ⣬ʾڱ༭
-	 * @return 
+	 * 参数标题，用于显示在编辑界面
+	 * @return 标题
 	 */
 	public String getTitle() {
 		return title;
 	}
 
 	/**
-	 * ȡ
-	 * ı༭ṩͬı༭
-	 * @return 
+	 * 获取输入类型
+	 * 参数的编辑界面根据输入类型提供不同的编辑器
+	 * @return 输入类型
 	 */
 	public int getInputType() {
 		return inputType;
 	}
 	
 	/**
-	 * ղֵʱ׳Ӧ쳣
+	 * 检查空参数，空值时抛出相应异常
 	 */
 	public void check(){
 		if(needCheckEmpty){
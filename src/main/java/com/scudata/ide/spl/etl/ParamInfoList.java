@@ -5,9 +5,9 @@ import java.util.*;
 import com.scudata.common.*;
 
 /**
- * Ϣб
+ * 参数信息列表
  * 
- * ĶԪصвļ
+ * 函数的对象元素的所有参数的集合
  * @author Joancy
  *
  */
@@ -20,27 +20,27 @@ public class ParamInfoList {
 	private MessageManager mm = FuncMessage.get();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public ParamInfoList() {
 	}
 
 	/**
-	 * ȡϢб
-	 * ԪصĲͨȽ϶࣬ԻὫԷ༭
-	 * ͨõĻֵ
-	 * @return Ϣб
+	 * 获取根参数信息列表
+	 * 由于元素的参数通常比较多，所以会将参数分组以方便编辑
+	 * 其中通用的会分到根组
+	 * @return 参数信息列表
 	 */
 	private ArrayList<ParamInfo> getrootList() {
 		return rootList;
 	}
 
 	/**
-	 * ׷вϢ
-	 * @param pil һϢб
+	 * 追加所有参数信息
+	 * @param pil 另一个参数信息列表
 	 */
 	public void addAll(ParamInfoList pil) {
-		//pilзҪͬƺϲ
+		//pil中分组名称要跟本参数分组相同名称合并
 		ArrayList<String> groupNames = pil.getGroupNames();
 		for( int i=0; i<groupNames.size(); i++){
 			String grpName = groupNames.get(i);
@@ -53,9 +53,9 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * Ϣpi׷ӵgroup
-	 * @param group 
-	 * @param pi Ϣ
+	 * 将参数信息pi追加到分组group下面
+	 * @param group 组名称
+	 * @param pi 参数信息
 	 */
 	public void add(String group, ParamInfo pi) {
 		ArrayList<ParamInfo> pis = null;
@@ -79,9 +79,9 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * ɾgroupµΪnameĲ
-	 * @param group 
-	 * @param name 
+	 * 删除组group下的名为name的参数
+	 * @param group 组名称
+	 * @param name 参数名称
 	 */
 	public void delete(String group, String name){
 		group = mm.getMessage(group);
@@ -89,24 +89,24 @@ public class ParamInfoList {
 	}
 	
 	/**
-	 * һϢ
-	 * @param pi Ϣ
+	 * 往根组增加一个参数信息
+	 * @param pi 参数信息
 	 */
 	public void add(ParamInfo pi) {
 		rootList.add(pi);
 	}
 	/**
-	 * ɾµΪnameĲ
-	 * @param name 
+	 * 删除根组下的名为name的参数
+	 * @param name 参数名称
 	 */
 	public void delete(String name){
 		delete(rootList,name);
 	}
 	
 	/**
-	 * ɾϢбlistеΪnameĲ
-	 * @param list Ϣб
-	 * @param name 
+	 * 删除参数信息列表list中的名为name的参数
+	 * @param list 参数信息列表
+	 * @param name 参数名称
 	 */
 	public void delete(ArrayList<ParamInfo> list,String name){
 		for(int i=0; i<list.size();i++){
@@ -119,17 +119,17 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * ȡ
-	 * @return б
+	 * 获取所有组的组名称
+	 * @return 组名称列表
 	 */
 	public ArrayList<String> getGroupNames() {
 		return groupNames;
 	}
 
 	/**
-	 * ȡΪgroupNameвϢ
-	 * @param groupName 
-	 * @return Ϣб
+	 * 获取名为groupName的组的所有参数信息
+	 * @param groupName 组名称
+	 * @return 参数信息列表
 	 */
 	public ArrayList<ParamInfo> getParams(String groupName) {
 		ArrayList<ParamInfo> pis = null;
@@ -143,17 +143,17 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * ȡĲϢ
-	 * @return Ϣб
+	 * 获取根组的参数信息
+	 * @return 参数信息列表
 	 */
 	public ArrayList<ParamInfo> getRootParams() {
 		return rootList;
 	}
 
 	/**
-	 * вҵΪnameĲϢ
-	 * @param name 
-	 * @return ϢҲʱnull
+	 * 在所有参数中找到名为name的参数信息
+	 * @param name 参数名称
+	 * @return 参数信息，找不到时返回null
 	 */
 	public ParamInfo getParamInfoByName(String name) {
 		ArrayList<ParamInfo> aps = getAllParams();
@@ -168,8 +168,8 @@ public class ParamInfoList {
 	}
 
 	/**
-	 * ȡȫϢ
-	 * @return Ϣб
+	 * 获取所有组的全部参数信息
+	 * @return 参数信息列表
 	 */
 	public ArrayList<ParamInfo> getAllParams() {
 		ArrayList<ParamInfo> aps = new ArrayList<ParamInfo>();
@@ -189,7 +189,7 @@ public class ParamInfoList {
 	}
 	
 	/**
-	 * вִпֵ
+	 * 对所有参数执行空值检查
 	 */
 	public void check(){
 		ArrayList<ParamInfo> all = getAllParams();
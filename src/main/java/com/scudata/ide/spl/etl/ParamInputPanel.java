@@ -8,7 +8,7 @@ import com.scudata.common.MessageManager;
 import com.scudata.ide.common.GM;
 
 /**
- * 
+ * 参数输入面板
  * 
  * @author Joancy
  *
@@ -18,14 +18,14 @@ public class ParamInputPanel extends JPanel{
 	
 	private TableParamEdit table;
 	JLabel lbType = new JLabel();
-	JLabel lbDesc = new JLabel("Ա༭");
+	JLabel lbDesc = new JLabel("属性编辑");
 	ParamInfoList infoList;
 	MessageManager mm = FuncMessage.get();
 	Dialog owner;
 
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public ParamInputPanel(Dialog owner){
 		this.owner = owner;
@@ -40,11 +40,11 @@ public class ParamInputPanel extends JPanel{
 	}
 	
 	/**
-	 * òϢ
-	 * @param funcType 
-	 * @param funcTitle 
-	 * @param funcDesc Ϣ
-	 * @param list ĲϢб
+	 * 设置参数信息
+	 * @param funcType 函数类型
+	 * @param funcTitle 函数标题
+	 * @param funcDesc 函数的描述信息
+	 * @param list 函数的参数信息列表
 	 */
 	public void setParamInfoList(String funcType, String funcTitle,String funcDesc,ParamInfoList list ) {
 		this.infoList = list;
@@ -58,16 +58,16 @@ public class ParamInputPanel extends JPanel{
 	}
 
 	/**
-	 * ȡ༭
-	 * @return ༭
+	 * 获取参数编辑表
+	 * @return 参数编辑表
 	 */
 	public TableParamEdit getParamTable() {
 		return table;
 	}
 
 	/**
-	 * ȡϢб
-	 * @return Ϣб
+	 * 获取参数信息列表
+	 * @return 参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		table.acceptText();
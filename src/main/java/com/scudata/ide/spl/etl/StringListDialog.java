@@ -21,7 +21,7 @@ import com.scudata.ide.common.swing.JTableEx;
 import com.scudata.ide.common.swing.VFlowLayout;
 
 /**
- * ʹöԻ༭ַָָ
+ * 使用对话框编辑分隔符分隔的字符串
  * 
  * @author Joancy
  *
@@ -39,7 +39,7 @@ public class StringListDialog extends JDialog{
 	private final byte COL_INDEX = 0;
 	private final byte COL_NAME = 1;
 
-	JTableEx tableFields = new JTableEx(mm.getMessage("StringListDialog.tablefields"));//",ֵ");
+	JTableEx tableFields = new JTableEx(mm.getMessage("StringListDialog.tablefields"));//"序号,值");
 	JPanel jPanel1 = new JPanel();
 	JButton jBAdd = new JButton();
 	JButton jBDel = new JButton();
@@ -47,8 +47,8 @@ public class StringListDialog extends JDialog{
 	private int m_option = JOptionPane.CANCEL_OPTION;
 	
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public StringListDialog(Dialog owner) {
 		super(owner);
@@ -74,16 +74,16 @@ public class StringListDialog extends JDialog{
 	}
 
 	/**
-	 * ȡڷѡ 
-	 * @return ѡ
+	 * 获取窗口返回选项 
+	 * @return 选项
 	 */
 	public int getOption() {
 		return m_option;
 	}
 
 	/**
-	 * ִб
-	 * @param list ַб
+	 * 设置字串列表
+	 * @param list 字符串列表
 	 */
 	public void setList(ArrayList<String> list) {
 		if(list==null){
@@ -97,8 +97,8 @@ public class StringListDialog extends JDialog{
 	}
 
 	/**
-	 * ȡַб
-	 * @return ַб
+	 * 获取字符串列表
+	 * @return 字符串列表
 	 */
 	public ArrayList<String> getList() {
 		tableFields.acceptText();
@@ -124,7 +124,7 @@ public class StringListDialog extends JDialog{
 		setModal(true);
 		jPanel2.setLayout(vFlowLayout1);
 		jBOK.setMnemonic('O');
-		jBOK.setText("ȷ(O)");
+		jBOK.setText("确定(O)");
 		jBOK.addActionListener(new ActionListener(){
 			public void actionPerformed(ActionEvent e) {
 				tableFields.acceptText();
@@ -133,7 +133,7 @@ public class StringListDialog extends JDialog{
 			}
 		});
 		jBCancel.setMnemonic('C');
-		jBCancel.setText("ȡ(C)");
+		jBCancel.setText("取消(C)");
 		jBCancel.addActionListener(new ActionListener(){
 			public void actionPerformed(ActionEvent e) {
 				dispose();
@@ -157,9 +157,9 @@ public class StringListDialog extends JDialog{
 		});
 		jScrollPane1.getViewport().add(tableFields);
 		jBAdd.setMnemonic('A');
-		jBAdd.setText("(A)");
+		jBAdd.setText("增加(A)");
 		jBDel.setMnemonic('D');
-		jBDel.setText("ɾ(D)");
+		jBDel.setText("删除(D)");
 		jPanel2.add(jBOK, null);
 		jPanel2.add(jBCancel, null);
 		jPanel2.add(jPanel1, null);
@@ -6,7 +6,7 @@ import java.util.ArrayList;
 import javax.swing.*;
 
 /**
- * ַָָ༭
+ * 分隔符分隔的字符串编辑器
  * 
  * @author Joancy
  *
@@ -20,8 +20,8 @@ public class StringListEditor extends DefaultCellEditor {
 	StringListIcon icon = new StringListIcon();
 
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public StringListEditor(Dialog owner) {
 		super(new JCheckBox());
@@ -51,7 +51,7 @@ public class StringListEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ʵָ󷽷ر༭ؼ
+	 * 实现父类抽象方法，返回编辑控件
 	 */
 	public Component getTableCellEditorComponent(JTable table, Object value,
 			boolean isSelected, int row, int column) {
@@ -67,14 +67,14 @@ public class StringListEditor extends DefaultCellEditor {
 	}
 
 	/**
-	 * ȡ༭ֵ
+	 * 获取编辑值
 	 */
 	public Object getCellEditorValue() {
 		return editingVal;
 	}
 
 	/**
-	 * ֹͣ༭
+	 * 停止编辑
 	 */
 	public boolean stopCellEditing() {
 		return super.stopCellEditing();
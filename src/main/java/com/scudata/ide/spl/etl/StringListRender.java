@@ -8,7 +8,7 @@ import javax.swing.table.*;
 import com.scudata.ide.common.swing.*;
 
 /**
- * ַָָȾ
+ * 分隔符分隔的字符串渲染器
  * 
  * @author Joancy
  *
@@ -18,7 +18,7 @@ public class StringListRender extends JLabel implements TableCellRenderer {
 	private StringListIcon icon = new StringListIcon();
 
 	/**
-	 * 캯
+	 * 构造函数
 	 */
 	public StringListRender() {
 		setOpaque(true);
@@ -27,7 +27,7 @@ public class StringListRender extends JLabel implements TableCellRenderer {
 	}
 
 	/**
-	 * ʵָĳ󷽷Ⱦؼ
+	 * 实现父类的抽象方法，返回渲染控件
 	 */
 	public Component getTableCellRendererComponent(JTable table, Object value,
 			boolean isSelected, boolean hasFocus, int row, int column) {
@@ -22,29 +22,29 @@ import com.scudata.ide.spl.resources.*;
 import com.scudata.util.*;
 
 /**
- * ༭
+ * 参数编辑表
  */
 public class TableParamEdit extends JTableEx {
 	private static final long serialVersionUID = 924940299890651265L;
-	private String NAMECOL = ChartMessage.get().getMessage( "label.propname" );  //"";
-	private String VALUECOL = ChartMessage.get().getMessage( "label.propvalue" );  //"ֵ";
-	private String EXPCOL = ChartMessage.get().getMessage( "label.propexp" );  //"ֵʽ";
+	private String NAMECOL = ChartMessage.get().getMessage( "label.propname" );  //"属性名称";
+	private String VALUECOL = ChartMessage.get().getMessage( "label.propvalue" );  //"属性值";
+	private String EXPCOL = ChartMessage.get().getMessage( "label.propexp" );  //"属性值表达式";
 	private String EDITSTYLECOL = "editstyle";
-	private String OBJCOL = "objcol"; //ParamInfonull
+	private String OBJCOL = "objcol"; //ParamInfo对象，如果是null则代表分组行
 	
 	private int iNAMECOL = 1;
 	private int iVALUECOL = 2;
 	private int iEXPCOL = 3;
 	private int iEDITSTYLECOL = 4;
-	private int iOBJCOL = 5; //ParamInfonull
+	private int iOBJCOL = 5; //ParamInfo对象，如果是null则代表分组行
 
-	private HashMap<String,ArrayList<Object[]>> hiddenMap = new HashMap<String,ArrayList<Object[]>>(); //е ArrayList ÿObject[]
+	private HashMap<String,ArrayList<Object[]>> hiddenMap = new HashMap<String,ArrayList<Object[]>>(); //隐藏行的数据 类型ArrayList 每个对象Object[]
 
 	Dialog owner;
 	
 	/**
-	 * 캯
-	 * @param owner 
+	 * 构造函数
+	 * @param owner 父窗口
 	 */
 	public TableParamEdit( Dialog owner) {
 		this.owner = owner;
@@ -76,13 +76,13 @@ public class TableParamEdit extends JTableEx {
 		setColumnVisible( OBJCOL, false );
 
 		setSelectionMode( ListSelectionModel.SINGLE_SELECTION );
-		setColumnSelectionAllowed( true ); //пѡ
-		setRowSelectionAllowed( true ); //пѡ
+		setColumnSelectionAllowed( true ); //列可选
+		setRowSelectionAllowed( true ); //行可选
 	}
 
 	/**
-	 * òϢб
-	 * @param list Ϣб
+	 * 设置参数信息列表
+	 * @param list 参数信息列表
 	 */
 	public void setParamEdit(ParamInfoList list ) {
 		acceptText();
@@ -93,7 +93,7 @@ public class TableParamEdit extends JTableEx {
 		tc.setCellEditor( new EtlRowEditor( this, iEDITSTYLECOL, owner ) );
 		tc.setCellRenderer( new EtlRowRenderer( iEDITSTYLECOL,owner ) );
 		
-		//
+		//生成数据
 		java.util.List<ParamInfo> root = list.getRootParams();
 		for( int i = 0; i < root.size(); i++ ) {
 			ParamInfo pi = root.get( i );
@@ -158,12 +158,12 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * ʵ˫¼
-	 * @param xpos 
-	 * @param ypos 
-	 * @param row  к
-	 * @param col  к
-	 * @param e ¼
+	 * 实现鼠标双击触发事件
+	 * @param xpos 横坐标
+	 * @param ypos 纵坐标
+	 * @param row  行号
+	 * @param col  列号
+	 * @param e 鼠标事件
 	 */
 	public void doubleClicked(int xpos, int ypos, int row, int col, MouseEvent e) {
 		if(col==0){
@@ -190,7 +190,7 @@ public class TableParamEdit extends JTableEx {
 				}
 				return;
 			}else if(es!=Consts.INPUT_NORMAL && es!=EtlConsts.INPUT_ONLYPROPERTY){
-//				ʽԼʱʹúı봰
+//				常规表达式以及仅属性输入时，使用后续文本输入窗口
 				return;
 			}
 		}
@@ -219,7 +219,7 @@ public class TableParamEdit extends JTableEx {
 	}
 	
 	/**
-	 * ʵ¼
+	 * 实现鼠标点击事件
 	 */
 	public void mouseClicked( MouseEvent e ) {
 		super.mouseClicked( e );
@@ -227,7 +227,7 @@ public class TableParamEdit extends JTableEx {
 		if ( e.getButton() == MouseEvent.BUTTON1 ) {
 			int row = getSelectedRow();
 			int col = getSelectedColumn();
-			if ( col != 0 ) {  //ʱչ
+			if ( col != 0 ) {  //鼠标点击行首列时，收缩与展开属性组
 				return;
 			}
 			if ( data.getValueAt( row, col ) == null || ! ( data.getValueAt( row, col ) instanceof Byte ) ) {
@@ -244,7 +244,7 @@ public class TableParamEdit extends JTableEx {
 					newType = GC.TYPE_PLUS;
 				case GC.TYPE_LASTMINUS:
 					newType = GC.TYPE_LASTPLUS;
-					while ( row + 1 < data.getRowCount() && data.getValueAt( row + 1, iOBJCOL ) != null ) { //ҵβһΪֹ
+					while ( row + 1 < data.getRowCount() && data.getValueAt( row + 1, iOBJCOL ) != null ) { //找到表尾或下一个分组行为止
 						rowData = new Object[data.getColumnCount()];
 						for ( int c = 0; c < data.getColumnCount(); c++ ) {
 							rowData[c] = data.getValueAt( row + 1, c );
@@ -267,13 +267,13 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * жָǷ༭
-	 * @param row к
-	 * @param column к
+	 * 判断指定的行列是否允许编辑
+	 * @param row 行号
+	 * @param column 列号
 	 */
 	public boolean isCellEditable( int row, int column ) {
 		ParamInfo info = ( ParamInfo ) data.getValueAt( row, iOBJCOL );
-		if( info == null ) {   //вܱ༭
+		if( info == null ) {   //分组行不能编辑
 			return false;
 		}
 		if(column==iEXPCOL){
@@ -288,10 +288,10 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * ʵĳֵ޸ĺ󴥷¼
-	 * @param aValue µֵ
-	 * @param row к
-	 * @param column к
+	 * 实现某个属性值被修改后触发的事件
+	 * @param aValue 新的属性值
+	 * @param row 行号
+	 * @param column 列号
 	 */
 	public void setValueAt( Object aValue, int row, int column ) {
 		Object oldValue = getValueAt( row, column );
@@ -305,10 +305,10 @@ public class TableParamEdit extends JTableEx {
 		super.setValueAt( aValue, row, column );
 		ParamInfo info = ( ParamInfo ) data.getValueAt( row, iOBJCOL );
 		if( info != null ) {
-			if( column == iVALUECOL ) {   //ֵҪڱʽʾ뷽ʽѡֵ
+			if( column == iVALUECOL ) {   //输入值，要在表达式列显示下拉等输入方式选择的值
 				super.setValueAt( toExpString( info, aValue ), row, iEXPCOL );
 			}
-			else if( column == iEXPCOL ) {  //ʽҪֵܽʾֵжӦʾֵ
+			else if( column == iEXPCOL ) {  //输入表达式，要将能解析的值显示成值列对应的显示值
 				super.setValueAt( toValueObject( info, aValue.toString() ), row, iVALUECOL );
 				if( aValue.toString().trim().length() == 0 ) {
 					aValue = info.getDefValue();
@@ -328,7 +328,7 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * ܵǰ༭õֵ
+	 * 接受当前编辑好的数值
 	 */
 	public void acceptText() {
 		if ( this.isEditing() ) {
@@ -337,10 +337,10 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * ֵvalueݲϢinfoͶתΪı
-	 * @param info Ϣ
-	 * @param value ֵ
-	 * @return ı
+	 * 将值value根据参数信息info里面的类型定义转换为文本串
+	 * @param info 参数信息
+	 * @param value 值
+	 * @return 文本串
 	 */
 	public static String toExpString( ParamInfo info, Object value ) {
 		int inputType = info.getInputType();
@@ -369,10 +369,10 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * ıֵexpݲϢinfoͶתΪӦֵ
-	 * @param info Ϣ
-	 * @param exp ıֵ
-	 * @return ֵ
+	 * 将文本串值exp根据参数信息info里的类型定义转换为对应的值
+	 * @param info 参数信息
+	 * @param exp 文本串值
+	 * @return 数据值
 	 */
 	public static Object toValueObject( ParamInfo info, String exp ) {
 		int inputType = info.getInputType();
@@ -391,10 +391,10 @@ public class TableParamEdit extends JTableEx {
 	}
 
 	/**
-	 * жֵvalueǷtypeƥ
-	 * @param type ༭
-	 * @param value ֵ
-	 * @return һʱtrue򷵻false
+	 * 判断值value是否跟类型type匹配
+	 * @param type 编辑的类型
+	 * @param value 数据值
+	 * @return 一致时返回true，否则返回false
 	 */
 	public static boolean isRightType( int type, Object value ) {
 		switch( type ) {
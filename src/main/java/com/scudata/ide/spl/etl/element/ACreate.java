@@ -5,15 +5,15 @@ import com.scudata.ide.spl.etl.ObjectElement;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ A.create()
- * ǰ׺Aʾ
+ * 辅助函数编辑 A.create()
+ * 函数名前缀A表示序表
  * 
  * @author Joancy
  *
  */
 public class ACreate extends ObjectElement {
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -21,17 +21,17 @@ public class ACreate extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
-	 * @return ǰ׺AͷĺEtlConsts.TYPE_SEQUENCE
+	 * @return 前缀A开头的函数，均返回EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getParentType() {
 		return EtlConsts.TYPE_SEQUENCE;
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getReturnType() {
@@ -40,29 +40,29 @@ public class ACreate extends ObjectElement {
 
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		return "";
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "create";
 	}
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数体
 	 */
 	public String getFuncBody() {
 		return null;
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		return true;
@@ -8,8 +8,8 @@ import com.scudata.ide.spl.etl.ParamInfoList;
 
 
 /**
- * ༭ A.delete()
- * ǰ׺Aʾ
+ * 辅助函数编辑 A.delete()
+ * 函数名前缀A表示序表
  * 
  * @author Joancy
  *
@@ -19,7 +19,7 @@ public class ADelete extends ObjectElement {
 	public boolean n;
 	
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -35,17 +35,17 @@ public class ADelete extends ObjectElement {
 
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
-	 * @return ǰ׺AͷĺEtlConsts.TYPE_SEQUENCE
+	 * @return 前缀A开头的函数，均返回EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getParentType() {
 		return EtlConsts.TYPE_SEQUENCE;
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getReturnType() {
@@ -53,7 +53,7 @@ public class ADelete extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
@@ -64,22 +64,22 @@ public class ADelete extends ObjectElement {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "delete";
 	}
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		return getNumberExp(exp);
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		exp = getNumber(funcBody);
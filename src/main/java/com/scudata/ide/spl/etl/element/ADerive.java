@@ -5,8 +5,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ A.derive()
- * ǰ׺Aʾ
+ * 辅助函数编辑 A.derive()
+ * 函数名前缀A表示序表
  * 
  * @author Joancy
  *
@@ -15,7 +15,7 @@ public class ADerive extends ANew {
 	public boolean x;
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = super.getParamInfoList();
@@ -28,14 +28,14 @@ public class ADerive extends ANew {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName(){
 		return "derive";
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
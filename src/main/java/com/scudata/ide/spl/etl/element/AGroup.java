@@ -10,8 +10,8 @@ import com.scudata.ide.spl.etl.ParamInfoList;
 
 
 /**
- * ༭ A.group()
- * ǰ׺Aʾ
+ * 辅助函数编辑 A.group()
+ * 函数名前缀A表示序表
  * 
  * @author Joancy
  *
@@ -30,7 +30,7 @@ public class AGroup extends ObjectElement {
 	public boolean h;
 	
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -54,17 +54,17 @@ public class AGroup extends ObjectElement {
 
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
-	 * @return ǰ׺AͷĺEtlConsts.TYPE_SEQUENCE
+	 * @return 前缀A开头的函数，均返回EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getParentType() {
 		return EtlConsts.TYPE_SEQUENCE;
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getReturnType() {
@@ -72,7 +72,7 @@ public class AGroup extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
@@ -82,10 +82,10 @@ public class AGroup extends ObjectElement {
 		if(one){
 			options.append("1");
 		}
-		if(n && !o){//o n
+		if(n && !o){//o n互斥
 			options.append("n");
 		}
-		if(u && !(o || n)){//o,n
+		if(u && !(o || n)){//与o,n互斥
 			options.append("u");
 		}
 		if(i){
@@ -107,15 +107,15 @@ public class AGroup extends ObjectElement {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "group";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		return getStringListExp(groupFields,",");
@@ -123,8 +123,8 @@ public class AGroup extends ObjectElement {
 
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		if(funcBody.indexOf(";")>0){
@@ -6,8 +6,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ A.group(x:F,...;y:G,)
- * ǰ׺Aʾ
+ * 辅助函数编辑 A.group(x:F,...;y:G,…)
+ * 函数名前缀A表示序表
  * 
  * @author Joancy
  *
@@ -16,7 +16,7 @@ import com.scudata.ide.spl.etl.ParamInfoList;
 public class AGroup2 extends AGroups {
 	
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -36,7 +36,7 @@ public class AGroup2 extends AGroups {
 	}
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName(){
 		return "group";
@@ -11,15 +11,15 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ A.groups()
- * ǰ׺Aʾ
+ * 辅助函数编辑 A.groups()
+ * 函数名前缀A表示序表
  * 
  * @author Joancy
  *
  */
 public class AGroups extends ObjectElement {
-	public ArrayList<FieldDefine> groupExps;//ʽ
-	public ArrayList<FieldDefine> aggregateExps;//ۺϱʽ
+	public ArrayList<FieldDefine> groupExps;//分组表达式
+	public ArrayList<FieldDefine> aggregateExps;//聚合表达式
 	
 	public boolean o;
 	public boolean n;
@@ -30,7 +30,7 @@ public class AGroups extends ObjectElement {
 	public boolean h;
 	
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -52,17 +52,17 @@ public class AGroups extends ObjectElement {
 
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
-	 * @return ǰ׺AͷĺEtlConsts.TYPE_SEQUENCE
+	 * @return 前缀A开头的函数，均返回EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getParentType() {
 		return EtlConsts.TYPE_SEQUENCE;
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getReturnType() {
@@ -70,23 +70,23 @@ public class AGroups extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
 		if(o){
 			options.append("o");
 		}
-		if(n && !o){//o n
+		if(n && !o){//o n互斥
 			options.append("n");
 		}
-		if(u && !(o || n)){//o,n
+		if(u && !(o || n)){//与o,n互斥
 			options.append("u");
 		}
 		if(i){
 			options.append("i");
 		}
-		if(m && !(o || i)){//o,i
+		if(m && !(o || i)){//与o,i互斥
 			options.append("m");
 		}
 		if(zero){
@@ -99,15 +99,15 @@ public class AGroups extends ObjectElement {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "groups";
 	}
 	
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -121,8 +121,8 @@ public class AGroups extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		StringTokenizer st = new StringTokenizer(funcBody,";");
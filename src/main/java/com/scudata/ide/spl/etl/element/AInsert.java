@@ -12,23 +12,23 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ A.insert()
- * ǰ׺Aʾ
+ * 辅助函数编辑 A.insert()
+ * 函数名前缀A表示序表
  * 
  * @author Joancy
  *
  */
 public class AInsert extends ObjectElement {
 	public int k=0;
-	public String originalTable;//Դ룬ҲȲ룬ûϱ༭ԸдԼдʽȥ
-	public ArrayList<FieldDefine> expFields;//ֵԼӦֶ
+	public String originalTable;//依照源表插入，该属性也可以依照整数长度插入，没法混合编辑，忽略该整数写法，自己写表达式去
+	public ArrayList<FieldDefine> expFields;//插入的值以及对应字段
 	
 	public boolean n;
 	public boolean r;
 	public boolean f;
 	
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -48,17 +48,17 @@ public class AInsert extends ObjectElement {
 
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
-	 * @return ǰ׺AͷĺEtlConsts.TYPE_SEQUENCE
+	 * @return 前缀A开头的函数，均返回EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getParentType() {
 		return EtlConsts.TYPE_SEQUENCE;
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getReturnType() {
@@ -66,7 +66,7 @@ public class AInsert extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
@@ -83,15 +83,15 @@ public class AInsert extends ObjectElement {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "insert";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -110,8 +110,8 @@ public class AInsert extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		StringTokenizer st = new StringTokenizer(funcBody,",");
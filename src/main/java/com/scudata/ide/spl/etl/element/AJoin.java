@@ -12,8 +12,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ A.join()
- * ǰ׺Aʾ
+ * 辅助函数编辑 A.join()
+ * 函数名前缀A表示序表
  * 
  * @author Joancy
  *
@@ -21,16 +21,16 @@ import com.scudata.ide.spl.etl.ParamInfoList;
 public class AJoin extends ObjectElement {
 	public ArrayList<String> foreignKeys;
 	public String joinTable;
-	public ArrayList<String> joinKeys;// ӵúA.keys(keys)ʱʡ
+	public ArrayList<String> joinKeys;// 连接的序表设置好主键，A.keys(keys)时，改项可以省略
 
-	public ArrayList<FieldDefine> attachFields;// Ӻ󸽼ڵǰAıʽԼֶʹFieldDefineĵ
+	public ArrayList<FieldDefine> attachFields;// 连接后附加在当前A后的表达式以及输出字段名，不使用FieldDefine的第三列
 
 	public boolean i;
 
-	// public boolean o;//Ȳʵoѡ
+	// public boolean o;//先不实现o选项
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -50,17 +50,17 @@ public class AJoin extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
-	 * @return ǰ׺AͷĺEtlConsts.TYPE_SEQUENCE
+	 * @return 前缀A开头的函数，均返回EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getParentType() {
 		return EtlConsts.TYPE_SEQUENCE;
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getReturnType() {
@@ -68,7 +68,7 @@ public class AJoin extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString() {
 		StringBuffer options = new StringBuffer();
@@ -79,15 +79,15 @@ public class AJoin extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "join";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -110,8 +110,8 @@ public class AJoin extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		StringTokenizer st = new StringTokenizer(funcBody, ",");
@@ -8,7 +8,7 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ connect(db)
+ * 辅助函数编辑 connect(db)
  * 
  * @author Joancy
  *
@@ -21,7 +21,7 @@ public class ConnectDB extends ObjectElement {
 	public boolean e;
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -37,8 +37,8 @@ public class ConnectDB extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_EMPTY
 	 */
@@ -47,7 +47,7 @@ public class ConnectDB extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_DB
 	 */
 	public byte getReturnType() {
@@ -55,10 +55,10 @@ public class ConnectDB extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
-		if(!StringUtils.isValidString(db)){//ûָdbʱļӣʱѡû
+		if(!StringUtils.isValidString(db)){//没有指定db时，用于文件连接，此时选项没意义
 			return null;
 		}
 		
@@ -76,9 +76,9 @@ public class ConnectDB extends ObjectElement {
 	}
 
 	/**
-	 * Ǹúѡ
-	 * еlevelַĸ뼶𣬸booleanѡֵͨãҪ⴦
-	 * @param options ѡ
+	 * 覆盖父类的设置函数的选项
+	 * 该类中的level是用字符描述的隔离级别，跟boolean选项值不通用，所以需要特殊处理
+	 * @param options 选项
 	 */
 	public void setOptions(String options){
 		if(options==null){
@@ -99,15 +99,15 @@ public class ConnectDB extends ObjectElement {
 
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "connect";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		if(!StringUtils.isValidString(db)){
@@ -117,11 +117,11 @@ public class ConnectDB extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
-//		Ϊ˸ConnectDriverֻҪжţͲǵǰ
+//		为了跟ConnectDriver区别，只要包含有逗号，就不是当前函数
 		if(funcBody.indexOf(",")>0){
 			return false;
 		}
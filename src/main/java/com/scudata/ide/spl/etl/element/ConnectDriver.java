@@ -9,7 +9,7 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ connect(driver,url)
+ * 辅助函数编辑 connect(driver,url)
  * 
  * @author Joancy
  *
@@ -23,7 +23,7 @@ public class ConnectDriver extends ObjectElement {
 	public boolean e;
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -41,8 +41,8 @@ public class ConnectDriver extends ObjectElement {
 
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_EMPTY
 	 */
@@ -51,7 +51,7 @@ public class ConnectDriver extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_DB
 	 */
 	public byte getReturnType() {
@@ -59,7 +59,7 @@ public class ConnectDriver extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer sb = new StringBuffer();
@@ -76,9 +76,9 @@ public class ConnectDriver extends ObjectElement {
 	}
 	
 	/**
-	 * Ǹúѡ
-	 * еlevelַĸ뼶𣬸booleanѡֵͨãҪ⴦
-	 * @param options ѡ
+	 * 覆盖父类的设置函数的选项
+	 * 该类中的level是用字符描述的隔离级别，跟boolean选项值不通用，所以需要特殊处理
+	 * @param options 选项
 	 */
 	public void setOptions(String options){
 		if(options==null){
@@ -98,15 +98,15 @@ public class ConnectDriver extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "connect";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -117,8 +117,8 @@ public class ConnectDriver extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		StringTokenizer st = new StringTokenizer(funcBody,",");
@@ -1,8 +1,8 @@
 package com.scudata.ide.spl.etl.element;
 
 /**
- * ༭ CS.derive()
- * ǰ׺Csʾα
+ * 辅助函数编辑 CS.derive()
+ * 函数名前缀Cs表示游标
  * 
  * @author Joancy
  *
@@ -10,7 +10,7 @@ package com.scudata.ide.spl.etl.element;
 public class CsDerive extends CsNew {
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName(){
 		return "derive";
@@ -9,8 +9,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ CS.group()
- * ǰ׺Csʾα
+ * 辅助函数编辑 CS.group()
+ * 函数名前缀Cs表示游标
  * 
  * @author Joancy
  *
@@ -24,7 +24,7 @@ public class CsGroup extends ObjectElement {
 	public boolean s;
 	
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -42,8 +42,8 @@ public class CsGroup extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
@@ -52,7 +52,7 @@ public class CsGroup extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
 	public byte getReturnType() {
@@ -60,7 +60,7 @@ public class CsGroup extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
@@ -72,7 +72,7 @@ public class CsGroup extends ObjectElement {
 		}
 		if(q){
 			options.append("q");
-			if(s){//򣬲飬Ҫ@qʹ
+			if(s){//仅排序，不分组，必须要与@q配合使用
 				options.append("s");
 			}
 		}
@@ -80,23 +80,23 @@ public class CsGroup extends ObjectElement {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "group";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		return getStringListExp(groupFields,",");
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		groupFields = getStringList(funcBody,",");
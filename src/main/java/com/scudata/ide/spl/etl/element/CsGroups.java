@@ -8,8 +8,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ CS.groups()
- * ǰ׺Csʾα
+ * 辅助函数编辑 CS.groups()
+ * 函数名前缀Cs表示游标
  * 
  * @author Joancy
  *
@@ -18,7 +18,7 @@ public class CsGroups extends AGroups {
 	public String maxN;
 	
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -40,8 +40,8 @@ public class CsGroups extends AGroups {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
@@ -50,7 +50,7 @@ public class CsGroups extends AGroups {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getReturnType() {
@@ -58,7 +58,7 @@ public class CsGroups extends AGroups {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
@@ -68,7 +68,7 @@ public class CsGroups extends AGroups {
 		if(n){
 			options.append("n");
 		}
-		if(u && !n){//u,n
+		if(u && !n){//u,n互斥
 			options.append("u");
 		}
 		if(i){
@@ -81,8 +81,8 @@ public class CsGroups extends AGroups {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -101,8 +101,8 @@ public class CsGroups extends AGroups {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		StringTokenizer st = new StringTokenizer(funcBody,";");
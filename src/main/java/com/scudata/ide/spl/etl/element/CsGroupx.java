@@ -9,8 +9,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ CS.groupx()
- * ǰ׺Csʾα
+ * 辅助函数编辑 CS.groupx()
+ * 函数名前缀Cs表示游标
  * 
  * @author Joancy
  *
@@ -19,7 +19,7 @@ public class CsGroupx extends CsGroups {
 	public String bufferN;
 	
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -38,8 +38,8 @@ public class CsGroupx extends CsGroups {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
@@ -48,7 +48,7 @@ public class CsGroupx extends CsGroups {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
 	public byte getReturnType() {
@@ -56,22 +56,22 @@ public class CsGroupx extends CsGroups {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
 		if(n){
 			options.append("n");
 		}
-		if(u && !n){//u,n
+		if(u && !n){//u,n互斥
 			options.append("u");
 		}
 		return options.toString();
 	}
 	
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -90,8 +90,8 @@ public class CsGroupx extends CsGroups {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		StringTokenizer st = new StringTokenizer(funcBody,";");
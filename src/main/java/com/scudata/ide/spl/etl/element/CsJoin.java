@@ -3,8 +3,8 @@ package com.scudata.ide.spl.etl.element;
 import com.scudata.ide.spl.etl.EtlConsts;
 
 /**
- * ༭ CS.join()
- * ǰ׺Csʾα
+ * 辅助函数编辑 CS.join()
+ * 函数名前缀Cs表示游标
  * 
  * @author Joancy
  *
@@ -12,8 +12,8 @@ import com.scudata.ide.spl.etl.EtlConsts;
 public class CsJoin extends AJoin {
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
@@ -22,7 +22,7 @@ public class CsJoin extends AJoin {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
 	public byte getReturnType() {
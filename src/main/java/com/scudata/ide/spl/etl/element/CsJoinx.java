@@ -11,8 +11,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ CS.joinx()
- * ǰ׺Csʾα
+ * 辅助函数编辑 CS.joinx()
+ * 函数名前缀Cs表示游标
  * 
  * @author Joancy
  *
@@ -20,21 +20,21 @@ import com.scudata.ide.spl.etl.ParamInfoList;
 public class CsJoinx extends ObjectElement {
 	public ArrayList<String> foreignKeys;
 	
-	public String joinFile;//ӵļļļ
+	public String joinFile;//连接的集文件或者组表文件
 	
-	public ArrayList<String> joinKeys;//joinFileforeignKeysһһӦ
-	public ArrayList<FieldDefine> attachFields;//Ӻ󸽼ڵǰAıʽԼֶʹFieldDefineĵ
-	public String bufferN="1024";//
+	public ArrayList<String> joinKeys;//joinFile的主键，必须跟foreignKeys一一对应
+	public ArrayList<FieldDefine> attachFields;//连接后附加在当前A后的表达式以及输出字段名，不使用FieldDefine的第三列
+	public String bufferN="1024";//缓存区行数
 	
 	public boolean i;
 	public boolean d;
 	public boolean q;
 	public boolean c;
 	public boolean u;
-//	public boolean o;//Ȳʵoѡ
+//	public boolean o;//先不实现o选项
 	
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -57,8 +57,8 @@ public class CsJoinx extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
@@ -67,7 +67,7 @@ public class CsJoinx extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
 	public byte getReturnType() {
@@ -75,7 +75,7 @@ public class CsJoinx extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
@@ -98,15 +98,15 @@ public class CsJoinx extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "joinx";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -128,8 +128,8 @@ public class CsJoinx extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		StringTokenizer fenhao = new StringTokenizer(funcBody,";");
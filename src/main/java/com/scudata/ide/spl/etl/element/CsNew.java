@@ -3,8 +3,8 @@ package com.scudata.ide.spl.etl.element;
 import com.scudata.ide.spl.etl.EtlConsts;
 import com.scudata.ide.spl.etl.ParamInfoList;
 /**
- * ༭ CS.new()
- * ǰ׺Csʾα
+ * 辅助函数编辑 CS.new()
+ * 函数名前缀Cs表示游标
  * 
  * @author Joancy
  *
@@ -12,8 +12,8 @@ import com.scudata.ide.spl.etl.ParamInfoList;
 public class CsNew extends ANew {
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
@@ -22,7 +22,7 @@ public class CsNew extends ANew {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
 	public byte getReturnType() {
@@ -30,12 +30,12 @@ public class CsNew extends ANew {
 	}
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = super.getParamInfoList();
 		
-//		αûmѡ
+//		游标没有m选项
 		String group = "options";
 		paramInfos.delete(group, "m");
 
@@ -43,7 +43,7 @@ public class CsNew extends ANew {
 	}
 	
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
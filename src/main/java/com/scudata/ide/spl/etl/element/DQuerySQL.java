@@ -6,8 +6,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ db.query()
- * ǰ׺Dʾݿ
+ * 辅助函数编辑 db.query()
+ * 函数名前缀D表示数据库连接
  * 
  * @author Joancy
  *
@@ -16,7 +16,7 @@ public class DQuerySQL extends DCursorSQL {
 	public boolean one;
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = super.getParamInfoList();
@@ -29,8 +29,8 @@ public class DQuerySQL extends DCursorSQL {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_DB
 	 */
@@ -39,7 +39,7 @@ public class DQuerySQL extends DCursorSQL {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getReturnType() {
@@ -47,7 +47,7 @@ public class DQuerySQL extends DCursorSQL {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer sb = new StringBuffer();
@@ -59,7 +59,7 @@ public class DQuerySQL extends DCursorSQL {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName(){
 		return "query";
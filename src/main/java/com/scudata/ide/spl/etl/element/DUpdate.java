@@ -12,8 +12,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ db.update()
- * ǰ׺Dʾݿ
+ * 辅助函数编辑 db.update()
+ * 函数名前缀D表示数据库连接
  * 
  * @author Joancy
  *
@@ -34,7 +34,7 @@ public class DUpdate extends ObjectElement {
 	public boolean d;
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -57,8 +57,8 @@ public class DUpdate extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_DB
 	 */
@@ -67,7 +67,7 @@ public class DUpdate extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_EMPTY
 	 */
 	public byte getReturnType() {
@@ -75,7 +75,7 @@ public class DUpdate extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
@@ -102,14 +102,14 @@ public class DUpdate extends ObjectElement {
 	
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "update";
 	}
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -135,8 +135,8 @@ public class DUpdate extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		int fenhao = funcBody.indexOf(";");
@@ -158,9 +158,9 @@ public class DUpdate extends ObjectElement {
 			aOrCs = buf;
 		}
 		tableName = st.nextToken();
-		buf = st.nextToken(";");//ֶȫس
+		buf = st.nextToken(";");//将后面的所有字段全部截出来
 		if(StringUtils.isValidString(buf)){
-			buf = buf.substring(1);//ȥȫغ󣬶ַ
+			buf = buf.substring(1);//去掉全截后，多出的首字符逗号
 			updateFields = getFieldDefine2(buf);
 		}
 		return true;
@@ -6,8 +6,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ f.cursor()
- * ǰ׺Fʾļ
+ * 辅助函数编辑 f.cursor()
+ * 函数名前缀F表示文件对象
  * 
  * @author Joancy
  *
@@ -16,7 +16,7 @@ public class FCursor extends FImport {
 	public boolean x;
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = super.getParamInfoList();
@@ -29,7 +29,7 @@ public class FCursor extends FImport {
 	}
 	
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
 	public byte getReturnType() {
@@ -37,14 +37,14 @@ public class FCursor extends FImport {
 	}
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName(){
 		return "cursor";
 	}
 	
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
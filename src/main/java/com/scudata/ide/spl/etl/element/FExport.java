@@ -11,8 +11,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ f.export()
- * ǰ׺Fʾļ
+ * 辅助函数编辑 f.export()
+ * 函数名前缀F表示文件对象
  * 
  * @author Joancy
  *
@@ -33,7 +33,7 @@ public class FExport extends ObjectElement {
 	public boolean o;
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -57,8 +57,8 @@ public class FExport extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_FILE
 	 */
@@ -67,7 +67,7 @@ public class FExport extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_EMPTY
 	 */
 	public byte getReturnType() {
@@ -75,14 +75,14 @@ public class FExport extends ObjectElement {
 	}
 	
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
 		if(t){
 			options.append("t");
 		}
-		if(a && !t){//a t 
+		if(a && !t){//a t 互斥
 			options.append("a");
 		}
 		if(b){
@@ -99,7 +99,7 @@ public class FExport extends ObjectElement {
 		}
 		if(q){
 			options.append("q");
-			if(o){//oq
+			if(o){//o从属于q
 				options.append("o");
 			}
 		}
@@ -107,15 +107,15 @@ public class FExport extends ObjectElement {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "export";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -136,8 +136,8 @@ public class FExport extends ObjectElement {
 	}
 	
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		StringTokenizer st = new StringTokenizer(funcBody,";");
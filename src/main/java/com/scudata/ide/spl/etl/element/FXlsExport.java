@@ -12,8 +12,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ f.xlsexport()
- * ǰ׺Fʾļ
+ * 辅助函数编辑 f.xlsexport()
+ * 函数名前缀F表示文件对象
  * 
  * @author Joancy
  *
@@ -32,7 +32,7 @@ public class FXlsExport extends ObjectElement {
 	public boolean p;
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -54,8 +54,8 @@ public class FXlsExport extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_FILE
 	 */
@@ -64,7 +64,7 @@ public class FXlsExport extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_EMPTY
 	 */
 	public byte getReturnType() {
@@ -73,14 +73,14 @@ public class FXlsExport extends ObjectElement {
 
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName(){
 		return "xlsexport";
 	}
 	
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
@@ -104,8 +104,8 @@ public class FXlsExport extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -139,8 +139,8 @@ public class FXlsExport extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody( String funcBody ) {
 		StringTokenizer st = new StringTokenizer( funcBody,";");
@@ -11,8 +11,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ f.xlsimport()
- * ǰ׺Fʾļ
+ * 辅助函数编辑 f.xlsimport()
+ * 函数名前缀F表示文件对象
  * 
  * @author Joancy
  *
@@ -34,7 +34,7 @@ public class FXlsImport extends ObjectElement {
 	public boolean s;
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -59,8 +59,8 @@ public class FXlsImport extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_FILE
 	 */
@@ -69,8 +69,8 @@ public class FXlsImport extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
-	 * @return ѡӦ
+	 * 获取该函数的返回类型
+	 * @return 根据选项返回相应类型
 	 */
 	public byte getReturnType() {
 		if(c){
@@ -83,14 +83,14 @@ public class FXlsImport extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName(){
 		return "xlsimport";
 	}
 	
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
@@ -100,13 +100,13 @@ public class FXlsImport extends ObjectElement {
 		if(c){
 			options.append("c");
 		}else if(b){
-			options.append("b");//@cʱ֧
+			options.append("b");//@c时不支持
 		}
 		boolean existTCB = t|c|b;
 		if(!existTCB & w){
-			options.append("w");//@t@c@b
+			options.append("w");//与@t@c@b互斥
 			if(p){
-				options.append("p");//wʱ
+				options.append("p");//w时的子项
 			}
 		}
 		if(n){
@@ -120,8 +120,8 @@ public class FXlsImport extends ObjectElement {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -163,8 +163,8 @@ public class FXlsImport extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody( String funcBody ) {
 		StringTokenizer st = new StringTokenizer(funcBody,";");
@@ -8,8 +8,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ f.xlsopen()
- * ǰ׺Fʾļ
+ * 辅助函数编辑 f.xlsopen()
+ * 函数名前缀F表示文件对象
  * 
  * @author Joancy
  *
@@ -21,7 +21,7 @@ public class FXlsOpen extends ObjectElement {
 	public boolean w;
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -37,8 +37,8 @@ public class FXlsOpen extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_FILE
 	 */
@@ -47,7 +47,7 @@ public class FXlsOpen extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_XLS
 	 */
 	public byte getReturnType() {
@@ -55,18 +55,18 @@ public class FXlsOpen extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName(){
 		return "xlsopen";
 	}
 	
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
-		if(r){//r,w
+		if(r){//r,w互斥
 			options.append("r");
 		}else if(w){
 			options.append("w");
@@ -75,8 +75,8 @@ public class FXlsOpen extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -87,8 +87,8 @@ public class FXlsOpen extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		password = getParam( funcBody );
@@ -10,16 +10,16 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ joinx()
+ * 辅助函数编辑 joinx()
  * 
  * @author Joancy
  *
  */
 public class Joinx extends ObjectElement {
-	public String srcCursor;//ӵԴα
-	public ArrayList<String> srcKeys;//ӵԴֶ
-	public String dstCursor;//ӵĿα
-	public ArrayList<String> dstKeys;//ӵĿֶ
+	public String srcCursor;//连接的源游标
+	public ArrayList<String> srcKeys;//连接的源字段
+	public String dstCursor;//连接的目标游标
+	public ArrayList<String> dstKeys;//连接的目标字段
 	
 	public boolean f;
 	public boolean one;
@@ -29,7 +29,7 @@ public class Joinx extends ObjectElement {
 	public boolean d;
 	
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -37,7 +37,7 @@ public class Joinx extends ObjectElement {
 
 		paramInfos.add(new ParamInfo("srcCursor",EtlConsts.INPUT_CELLCURSOR,true));
 		paramInfos.add(new ParamInfo("srcKeys",EtlConsts.INPUT_STRINGLIST));
-		paramInfos.add(new ParamInfo("dstCursor",EtlConsts.INPUT_CELLAORCS,true));//ѡuʱΪ
+		paramInfos.add(new ParamInfo("dstCursor",EtlConsts.INPUT_CELLAORCS,true));//选项u时可以为序表
 		paramInfos.add(new ParamInfo("dstKeys",EtlConsts.INPUT_STRINGLIST));
 
 		String group = "options";
@@ -52,8 +52,8 @@ public class Joinx extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_EMPTY
 	 */
@@ -62,7 +62,7 @@ public class Joinx extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_CURSOR
 	 */
 	public byte getReturnType() {
@@ -70,7 +70,7 @@ public class Joinx extends ObjectElement {
 	}
 
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		StringBuffer options = new StringBuffer();
@@ -96,15 +96,15 @@ public class Joinx extends ObjectElement {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "joinx";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -119,8 +119,8 @@ public class Joinx extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		StringTokenizer st = new StringTokenizer( funcBody,";");
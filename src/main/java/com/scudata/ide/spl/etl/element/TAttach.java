@@ -11,8 +11,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ t.attach()
- * ǰ׺TʾCTXʵ
+ * 辅助函数编辑 t.attach()
+ * 函数名前缀T表示CTX实表
  * 
  * @author Joancy
  *
@@ -23,7 +23,7 @@ public class TAttach extends ObjectElement {
 	
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -36,8 +36,8 @@ public class TAttach extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_CTX
 	 */
@@ -46,7 +46,7 @@ public class TAttach extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_SEQUENCE
 	 */
 	public byte getReturnType() {
@@ -55,7 +55,7 @@ public class TAttach extends ObjectElement {
 
 	
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		return "";
@@ -98,15 +98,15 @@ public class TAttach extends ObjectElement {
 	}
 	
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "attach";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		StringBuffer sb = new StringBuffer();
@@ -117,14 +117,14 @@ public class TAttach extends ObjectElement {
 	}
 
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		StringTokenizer st = new StringTokenizer(funcBody,",");
 		tableName = getExpression(st.nextToken());
 		if(st.hasMoreTokens()){
-			String buf = st.nextToken(";");//ʹòͬķţȡжŴ
+			String buf = st.nextToken(";");//使用不同的符号，取出后面所有逗号串
 			getFields(buf);
 		}
 		return true;
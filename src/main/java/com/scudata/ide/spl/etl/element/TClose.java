@@ -5,8 +5,8 @@ import com.scudata.ide.spl.etl.ObjectElement;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ t.close()
- * ǰ׺TʾCTXʵ
+ * 辅助函数编辑 t.close()
+ * 函数名前缀T表示CTX实表
  * 
  * @author Joancy
  *
@@ -14,7 +14,7 @@ import com.scudata.ide.spl.etl.ParamInfoList;
 public class TClose extends ObjectElement {
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -22,8 +22,8 @@ public class TClose extends ObjectElement {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_CTX
 	 */
@@ -32,36 +32,36 @@ public class TClose extends ObjectElement {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_EMPTY
 	 */
 	public byte getReturnType() {
 		return EtlConsts.TYPE_EMPTY;
 	}
 	/**
-	 * ȡSPLʽѡ
+	 * 获取用于生成SPL表达式的选项串
 	 */
 	public String optionString(){
 		return "";
 	}
 
 	/**
-	 * ȡSPLʽĺ
+	 * 获取用于生成SPL表达式的函数名
 	 */
 	public String getFuncName() {
 		return "close";
 	}
 
 	/**
-	 * ȡSPLʽĺ
-	 * setFuncBody溯ȻʽĸֵҲǻ
+	 * 获取用于生成SPL表达式的函数体
+	 * 跟setFuncBody是逆函数，然后表达式的赋值也总是互逆的
 	 */
 	public String getFuncBody() {
 		return null;
 	}
 	/**
-	 * ú
-	 * @param funcBody 
+	 * 设置函数体
+	 * @param funcBody 函数体
 	 */
 	public boolean setFuncBody(String funcBody) {
 		return true;
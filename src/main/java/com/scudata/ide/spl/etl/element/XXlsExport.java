@@ -6,8 +6,8 @@ import com.scudata.ide.spl.etl.ParamInfo;
 import com.scudata.ide.spl.etl.ParamInfoList;
 
 /**
- * ༭ xls.xlsexport()
- * ǰ׺Xʾ xlsļ
+ * 辅助函数编辑 xls.xlsexport()
+ * 函数名前缀X表示 xls文件对象
  * 
  * @author Joancy
  *
@@ -15,7 +15,7 @@ import com.scudata.ide.spl.etl.ParamInfoList;
 public class XXlsExport extends FXlsExport {
 
 	/**
-	 * ȡڽ༭ĲϢб
+	 * 获取用于界面编辑的参数信息列表
 	 */
 	public ParamInfoList getParamInfoList() {
 		ParamInfoList paramInfos = new ParamInfoList();
@@ -32,8 +32,8 @@ public class XXlsExport extends FXlsExport {
 	}
 
 	/**
-	 * ȡ
-	 * ͵ĳΪ
+	 * 获取父类型
+	 * 类型的常量定义为
 	 * EtlConsts.TYPE_XXX
 	 * @return EtlConsts.TYPE_XLS
 	 */
@@ -42,7 +42,7 @@ public class XXlsExport extends FXlsExport {
 	}
 
 	/**
-	 * ȡúķ
+	 * 获取该函数的返回类型
 	 * @return EtlConsts.TYPE_EMPTY
 	 */
 	public byte getReturnType() {
@@ -5,19 +5,19 @@ import java.util.Locale;
 import com.scudata.common.MessageManager;
 
 /**
- * Դ
+ * 集算器资源
  *
  */
 public class IdeSplMessage {
 
 	/**
-	 * ˽й캯
+	 * 私有构造函数
 	 */
 	private IdeSplMessage() {
 	}
 
 	/**
-	 * ȡԴ
+	 * 获取资源管理器对象
 	 * 
 	 * @return
 	 */
@@ -26,9 +26,9 @@ public class IdeSplMessage {
 	}
 
 	/**
-	 * ȡָԴ
+	 * 获取指定区域的资源管理器对象
 	 * 
-	 * @param locale 
+	 * @param locale 区域
 	 * @return
 	 */
 	public static MessageManager get(Locale locale) {
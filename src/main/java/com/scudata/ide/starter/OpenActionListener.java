@@ -11,7 +11,7 @@ public class OpenActionListener extends ConfigMenuAction {
 	public void actionPerformed(ActionEvent event) {
 		try {
 			String path = this.getConfigArgument();
-			String startHome = System.getProperty("start.home");// ϵͳĿ¼
+			String startHome = System.getProperty("start.home");// 获得系统根目录
 			path = ConfigUtil.getPath(startHome, path);
 			Runtime.getRuntime().exec("cmd /c \"" + path + "\"");
 		} catch (Exception e) {
@@ -6,7 +6,7 @@ import com.scudata.ide.common.ConfigMenuAction;
 import com.scudata.ide.common.dialog.DialogDemoFiles;
 
 /**
- * 
+ * 打开样例程序
  * 
  * @author wunan
  *
@@ -62,7 +62,7 @@ public class SheetEditor extends JInternalFrame implements ISheet{
 	}
 
 	public boolean close() {
-		// ֹͣб༭ı༭
+		// 先停止所有编辑器的编辑
 		if(node.getType()==VDBTreeNode.TYPE_SEQUENCE){
 			sequence.tableValue.acceptText();
 		}
@@ -116,7 +116,7 @@ class Listener extends InternalFrameAdapter {
 	}
 
 	public void internalFrameActivated(InternalFrameEvent e) {
-		// ߳ԵȴĴڳ׹رղżô
+		// 用线程启动以等待别的窗口彻底关闭才激活该窗口
 		SwingUtilities.invokeLater(new Runnable() {
 			public void run() {
 				MenuVDB menu = VDB.getInstance().getMenuVDB();
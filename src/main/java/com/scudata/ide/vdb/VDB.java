@@ -85,7 +85,7 @@ public class VDB extends AppFrame implements EditListener {
 		} catch (Exception e1) {
 			e1.printStackTrace();
 		}
-		// ȨȼԼ
+		// 集算器授权，先加载自己用
 		try {
 			// Sequence.readLicense(Sequence.P_PROGRAM,
 			// GM.getAbsolutePath(ConfigOptions.sEsprocLic));
@@ -142,10 +142,10 @@ public class VDB extends AppFrame implements EditListener {
 		menuVDB.disableConnectMenu();
 		menuVDB.disableNodeMenu();
 		menuVDB.disableDataMenu();
-		// ѡеһ
+		// 选中第一个连接
 		loadConnections();
 
-		// 滻ӦõĴڳߴ
+		// 替换掉基础应用的窗口尺寸加载器
 		// com.scudata.ide.common.GM.setDialogDimensionListener(GM.getDDListener());
 	}
 
@@ -240,7 +240,7 @@ public class VDB extends AppFrame implements EditListener {
 	}
 
 	/**
-	 * ˳IDE
+	 * 退出IDE
 	 * 
 	 * @return
 	 */
@@ -299,7 +299,7 @@ public class VDB extends AppFrame implements EditListener {
 
 	public static void main(String[] args) {
 		System.out.println("VDB starting....");
-		System.out.println("Language" + Locale.getDefault());
+		System.out.println("Language：" + Locale.getDefault());
 
 		SwingUtilities.invokeLater(new Thread() {
 			public void run() {
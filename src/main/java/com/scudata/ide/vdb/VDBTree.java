@@ -134,7 +134,7 @@ public abstract class VDBTree extends JTree{
 		}
 		com.scudata.ide.vdb.VDB fr = com.scudata.ide.vdb.VDB.getInstance();
 		if(fr==null){
-//			vdbTreeʼǰ棬ʱfrnull
+//			vdbTree初始化在前面，启动时，fr还是null
 			return;
 		}
 		MenuVDB menu = fr.getMenuVDB();
@@ -242,7 +242,7 @@ public abstract class VDBTree extends JTree{
 			cc = (ConnectionConfig) node.getUserObject();
 		}
 		if(cc.isEditChanged()){
-			int option = JOptionPane.showConfirmDialog(GV.appFrame, "[ "+cc.getName()+" ]ûύҪύ", "ݱ", JOptionPane.YES_NO_CANCEL_OPTION);
+			int option = JOptionPane.showConfirmDialog(GV.appFrame, "[ "+cc.getName()+" ]的数据没有提交，需要提交吗？", "数据保存", JOptionPane.YES_NO_CANCEL_OPTION);
 			switch (option) {
 			case JOptionPane.YES_OPTION:
 				try{
@@ -277,7 +277,7 @@ public abstract class VDBTree extends JTree{
 		ConnectionConfig cc = (ConnectionConfig) node.getUserObject();
 		if (cc.isConnected()) {
 			int option = JOptionPane.showConfirmDialog(com.scudata.ide.vdb.VDB.getInstance(),
-					"ǰݿΪ״̬༭ǰҪرȷϹر", "ȷϹر",
+					"当前数据库为打开状态，编辑前需要关闭它，确认关闭吗？", "确认关闭",
 					JOptionPane.OK_CANCEL_OPTION);
 			switch (option) {
 			case JOptionPane.OK_OPTION:
@@ -324,7 +324,7 @@ public abstract class VDBTree extends JTree{
 			return;
 		}
 		int option = JOptionPane.showConfirmDialog(com.scudata.ide.vdb.VDB.getInstance(),
-				"ȷʵҪɾӡ" + node.getTitle() + "", "ȷɾ",
+				"确实要删除连接【" + node.getTitle() + "】吗？", "确认删除",
 				JOptionPane.OK_CANCEL_OPTION);
 		if (option != JOptionPane.OK_OPTION) {
 			return;
@@ -354,7 +354,7 @@ public abstract class VDBTree extends JTree{
 			return;
 		Object obj= currentNode.getUserObject();
 		if(!(obj instanceof VS)){
-			JOptionPane.showMessageDialog(com.scudata.ide.vdb.VDB.getInstance(), "ڵ㲻ɾ");
+			JOptionPane.showMessageDialog(com.scudata.ide.vdb.VDB.getInstance(), "根节点不能删除。");
 			return;
 		}
 		VS vs = (VS)obj;
@@ -470,16 +470,16 @@ public abstract class VDBTree extends JTree{
 		// root.setExpanded(true);
 		// loadSubNode(root);
 		// nodeStructureChanged(root);
-		// if (isInit) { // ϴչṹ
+		// if (isInit) { // 加载上次树形扩展结构
 		// isInit = false;
 		// try {
 		// String sExpand = ConfigOptions.sFileTreeExpand;
-		// if (!StringUtils.isValidString(sExpand)) { // һδ
+		// if (!StringUtils.isValidString(sExpand)) { // 第一次打开
 		// this.collapsePath(new TreePath(root.getPath()));
 		// loadSubNode(root);
 		// return;
 		// }
-		// if (NOT_EXPAND.equals(sExpand)) { // ڵûչ
+		// if (NOT_EXPAND.equals(sExpand)) { // 根节点没展开
 		// this.collapsePath(new TreePath(root.getPath()));
 		// root.setExpanded(false);
 		// return;
@@ -565,19 +565,19 @@ public abstract class VDBTree extends JTree{
 		String imgPath = null;
 		switch (action) {
 		// case OPEN_FILE:
-		// title = Lang.getText("filetree.open"); // 
+		// title = Lang.getText("filetree.open"); // 打开
 		// imgPath = "m_open.gif";
 		// break;
 		// case OPEN_DIR:
-		// title = Lang.getText("filetree.opendir"); // Ŀ¼
+		// title = Lang.getText("filetree.opendir"); // 打开目录
 		// imgPath = "m_load.gif";
 		// break;
 		// case OPEN_FILE_DIR:
-		// title = Lang.getText("filetree.openfiledir"); // ļĿ¼
+		// title = Lang.getText("filetree.openfiledir"); // 打开文件所在目录
 		// imgPath = "m_load.gif";
 		// break;
 		// case REFRESH:
-		// title = Lang.getText("filetree.refresh"); // ˢ
+		// title = Lang.getText("filetree.refresh"); // 刷新
 		// imgPath = "m_refresh.gif";
 		// break;
 		// default:
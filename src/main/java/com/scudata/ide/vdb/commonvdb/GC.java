@@ -3,24 +3,24 @@ package com.scudata.ide.vdb.commonvdb;
 import java.awt.Font;
 
 /**
- * 
+ * 常量
  * 
  * @author wunan
  *
  */
 public class GC {
-	// Դ·
+	// 资源路径
 	public final static String RESOURCE_PATH = "/com/scudata/ide/vdb/resources/";
-	// ͼƬ·
+	// 图片路径
 	public final static String IMAGES_PATH = "/com/scudata/ide/vdb/img/";
-	// 
+	// 配置
 	public final static String PATH_CONFIG = "/config";
-	// ͼ
+	// 图标
 	public final static String PATH_LOGO = "/logo";
-	// ־
+	// 日志
 	public final static String PATH_LOG = "/log";
 
-	// ļ
+	// 文件类型
 	public final static String FILE_VDB = "vdb";
 
 	public final static String FILE_TXT = "txt";
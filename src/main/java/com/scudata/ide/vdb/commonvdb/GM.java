@@ -39,7 +39,7 @@ import com.scudata.ide.vdb.resources.IdeMessage;
 
 public class GM {
 	/**
-	 * ȡͼ
+	 * 取图标
 	 * 
 	 * @param filePath
 	 * @return
@@ -57,7 +57,7 @@ public class GM {
 				filePath = "/" + filePath;
 			}
 			is = GM.class.getResourceAsStream(filePath);
-			// ļңҲСд
+			// 先用文件名找，找不到再用小写的找
 			if (is == null) {
 				is = GM.class.getResourceAsStream(filePath.toLowerCase());
 			}
@@ -84,7 +84,7 @@ public class GM {
 	}
 
 	/**
-	 * ȡ˵ͼ
+	 * 取菜单图标
 	 * 
 	 * @param menuText
 	 * @return
@@ -102,13 +102,13 @@ public class GM {
 	}
 
 	/**
-	 * еֽ
+	 * 获得输入流中的字节数组
 	 * 
 	 * @param is
-	 *            
+	 *            输入流对象
 	 * @throws Exception
-	 *             
-	 * @return ֽ
+	 *             输入输出错误
+	 * @return 字节数组
 	 */
 	public static byte[] inputStream2Bytes(InputStream is) throws Exception {
 		if (is == null) {
@@ -124,7 +124,7 @@ public class GM {
 	}
 
 	/**
-	 * 쳣
+	 * 异常处理
 	 * 
 	 * @param oMsg
 	 */
@@ -133,7 +133,7 @@ public class GM {
 	}
 
 	/**
-	 * 쳣
+	 * 异常处理
 	 * 
 	 * @param e
 	 *            Throwable
@@ -152,7 +152,7 @@ public class GM {
 			msg = oMsg.toString();
 		}
 		if (canCopyMsg) {
-			// Ϣ
+			// 错误信息
 			DialogInputText dit = new DialogInputText(false);
 			dit.setTitle(IdeMessage.get().getMessage("gm.exinfo"));
 			dit.setText(msg);
@@ -169,7 +169,7 @@ public class GM {
 	}
 
 	/**
-	 * д쳣־ļ
+	 * 写异常到日志文件
 	 * 
 	 * @param e
 	 */
@@ -197,7 +197,7 @@ public class GM {
 	}
 
 	/**
-	 * ȡstart.home·
+	 * 获取相对于start.home到绝对路径
 	 * 
 	 * @param path
 	 * @return
@@ -208,7 +208,7 @@ public class GM {
 	}
 
 	/**
-	 * ȡhomeľ·
+	 * 获取相对于home的绝对路径
 	 * 
 	 * @param path
 	 * @param home
@@ -229,14 +229,14 @@ public class GM {
 	}
 
 	/**
-	 * öԻĬȷȡť
+	 * 设置对话框的默认确定和取消按钮
 	 * 
 	 * @param dlg
-	 *            JDialogҪõĶԻ
+	 *            JDialog，要设置的对话框
 	 * @param okButton
-	 *            JButtonسʱִеİť
+	 *            JButton，回车时执行的按钮
 	 * @param cancelButton
-	 *            JButtonEscapeʱִеİť
+	 *            JButton，Escape时执行的按钮
 	 */
 	public static void setDialogDefaultButton(Window dlg, final JButton okButton, final JButton cancelButton) {
 		JRootPane pane = null;
@@ -265,10 +265,10 @@ public class GM {
 	}
 
 	/**
-	 * ھ
+	 * 将窗口居中
 	 * 
 	 * @param w
-	 *            Window ҪеĴ
+	 *            Window 要居中的窗口
 	 */
 	public static void centerWindow(Component w) {
 		if (!loadWindowDimension(w)) {
@@ -335,7 +335,7 @@ public class GM {
 							return true;
 						}
 					}
-				} catch (Throwable ex) { // ν
+				} catch (Throwable ex) { // 读不到无所谓了
 				}
 				return false;
 			}};
@@ -347,7 +347,7 @@ public class GM {
 	}
 
 	/**
-	 * 洰ڵλúʹСϢ
+	 * 保存窗口的位置和大小信息
 	 * 
 	 * @param dlg
 	 *            JDialog
@@ -357,14 +357,14 @@ public class GM {
 	}
 
 	/**
-	 * ȡGridBagֶ
+	 * 获取GridBag布局对象
 	 * 
 	 * @param row
-	 *            int, к
+	 *            int, 对象所处行号
 	 * @param col
-	 *            int, к
+	 *            int, 对象所处列号
 	 * @param hFill
-	 *            boolean,öǷ
+	 *            boolean,该对象是否行填充
 	 * @return GridBagConstraints
 	 */
 	public static GridBagConstraints getGBC(int row, int col, boolean hFill, boolean vFill, int hGap) {
@@ -405,7 +405,7 @@ public class GM {
 	}
 
 	/**
-	 * ȡؼڴеľ
+	 * 获取控件在窗口中的绝对坐标
 	 * 
 	 * @param c
 	 *            Component
@@ -422,12 +422,12 @@ public class GM {
 	}
 
 	/**
-	 * ļѡԻ򣬻ȡָչ͵ļ
+	 * 打开文件选择对话框，获取指定扩展名类型的文件
 	 * 
 	 * @param fileExts
-	 *            Stringʼչͣöŷֿ
+	 *            String，初始的扩展名类型，用逗号分开多种类型
 	 * @param currentDirectory
-	 *            Stringʼļ·
+	 *            String，初始的文件路径
 	 * @return File
 	 */
 	public static File dialogSelectFile(String fileExts) {
@@ -535,11 +535,11 @@ public class GM {
 	}
 
 	/**
-	 * Իѡһļ·
+	 * 弹出对话框，选择一个文件路径
 	 * 
 	 * @param currentDirectory
-	 *            StringԻʼ·
-	 * @return String,ûѡ·ȡnull
+	 *            String，对话框初始的路径
+	 * @return String,用户选择的路径，取消返回null
 	 */
 	public static String dialogSelectDirectory(String currentDirectory) {
 		JFileChooser chooser = new JFileChooser(currentDirectory);
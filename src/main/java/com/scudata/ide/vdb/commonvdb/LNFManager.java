@@ -7,7 +7,7 @@ import javax.swing.UIManager;
 import com.scudata.ide.vdb.config.ConfigOptions;
 
 /**
- * ʽ
+ * 界面样式
  * 
  * @author wunan
  *
@@ -31,13 +31,13 @@ public class ConfigFile {
 	public static final String CONNECTIONS = "Connections";
 	public static final String CONNECTION = "Connection";
 
-	// ļ
+	// 配置文件名称
 	public static final String CONFIG_FILE_NAME = "vdbuserconfig.xml";
 
 	public static final String BAK_SUFFIX = ".bak";
 
 	/**
-	 * ļ·
+	 * 配置文件路径
 	 * 
 	 * @return
 	 */
@@ -46,7 +46,7 @@ public class ConfigFile {
 	}
 
 	/**
-	 * 
+	 * 保存配置
 	 * 
 	 * @param options
 	 * @throws Exception
@@ -63,7 +63,7 @@ public class ConfigFile {
 	}
 
 	/**
-	 * 
+	 * 导入配置
 	 * 
 	 * @param options
 	 * @throws Exception
@@ -109,7 +109,7 @@ public class ConfigFile {
 	}
 
 	/**
-	 * ļϷʱһ
+	 * 文件不合法时重新生成一个
 	 * 
 	 * @throws Exception
 	 */
@@ -123,7 +123,7 @@ public class ConfigFile {
 	}
 
 	/**
-	 * 
+	 * 备份
 	 */
 	public static void backup() {
 		String filePath = getConfigFilePath();
@@ -8,35 +8,35 @@ import com.scudata.common.StringUtils;
 import com.scudata.ide.vdb.commonvdb.*;
 
 /**
- * ѡ
+ * 选项配置
  * 
  * @author wunan
  *
  */
 public class ConfigOptions {
-	// Զļ
+	// 自动打开文件
 	public static Boolean bAutoOpen = Boolean.TRUE;
-	// ʽ
+	// 界面样式
 	public static Byte iLookAndFeel = new Byte(LNFManager.LNF_NIMBUS);
-	// 쳣־
+	// 输出异常到日志
 	public static Boolean bLogException = Boolean.TRUE;
-	// 䴰λôС
+	// 记忆窗口位置大小
 	public static Boolean bWindowSize = Boolean.TRUE;
-	// ӹ̨ܿ
+	// 接管控制台
 	public static Boolean bHoldConsole = Boolean.FALSE;
-	// ־ļ
+	// 日志文件
 	public static String sLogFileName = "/log/vdb.log";
-	// Ŀ¼
+	// 最近打开目录
 	public static String sLastDirectory = System.getProperty("user.home");
-	// Ȩ
-	public static String sEsprocLic = GC.PATH_CONFIG + "/ڲ԰.lic";
+	// 集算器授权
+	public static String sEsprocLic = GC.PATH_CONFIG + "/集算器内部测试版.lic";
 
-	// ѡ
+	// 选项
 	public static Map<String, Object> options = new HashMap<String, Object>();
-	// 洢λôСַ
+	// 用来存储窗口位置大小的字符串
 	public static Map<String, String> dimensions = new HashMap<String, String>();
 
-	// Ϣ
+	// 连接信息
 	public static Map<String, String> connections = new HashMap<String, String>();
 
 	static {
@@ -22,11 +22,11 @@ public class ConfigOptionsWriter {
 	private TransformerHandler handler = null;
 	// private String fileName;
 	// private AttributesImpl atts;
-	// ԪزΣڿXML
+	// 元素层次，用于控制XML缩进
 	private int level = 0;
-	// ÿθ4ո񣬼һtab
+	// 每个层次父级缩进4个空格，即一个tab
 	private final String tab = "    ";
-	// ϵͳзWindowsΪ"\n"Linux/UnixΪ"/n"
+	// 系统换行符，Windows为："\n"，Linux/Unix为："/n"
 	private final String separator = System.getProperties().getProperty("os.name").toUpperCase()
 			.indexOf("WINDOWS") != -1 ? "\n" : "/n";
 
@@ -35,11 +35,11 @@ public class ConfigOptionsWriter {
 			SAXTransformerFactory fac = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
 			handler = fac.newTransformerHandler();
 			Transformer transformer = handler.getTransformer();
-			// õı뷽ʽ
+			// 设置输出采用的编码方式
 			transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-			// ǷԶӶĿհ
+			// 是否自动添加额外的空白
 			transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-			// Ƿxml
+			// 是否忽略xml声明
 			transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "no");
 			// outStream = new FileOutputStream(fileName);
 
@@ -49,8 +49,8 @@ public class ConfigOptionsWriter {
 		}
 	}
 
-	// ԪǶӽڵ㣬ԪصĿʼͽֿд
-	// 磺<a><b>bcd</b></a>
+	// 元素里面会嵌套子节点，因此元素的开始和结束分开写
+	// 如：<a><b>bcd</b></a>
 	private void startElement(String objectElement, AttributesImpl attrs) throws SAXException {
 		if (attrs == null) {
 			attrs = new AttributesImpl();
@@ -58,14 +58,14 @@ public class ConfigOptionsWriter {
 		// level++;
 		appendTab();
 		if (objectElement != null) {
-			// ע⣬atts.addAttributeԣ磺<a key="key"
-			// value="value">abc</a>ʽ
-			// ûԣ磺<a>abc</a>ʽ
+			// 注意，如果atts.addAttribute设置了属性，则会输出如：<a key="key"
+			// value="value">abc</a>格式
+			// 如果没有设置属性，则输出如：<a>abc</a>格式
 			handler.startElement("", "", objectElement, attrs);
 		}
 	}
 
-	// Ԫؽǣ磺</a>
+	// 正常元素结束标记，如：</a>
 	private void endElement(String objectElement) throws SAXException {
 		// level--;
 		appendTab();
@@ -74,13 +74,13 @@ public class ConfigOptionsWriter {
 		}
 	}
 
-	// ԷյĿԪأ<a key="key" value="value"/>ûУдһʱXMLԶԷ
+	// 自封闭的空元素，如<a key="key" value="value"/>，不用换行，写在一行时XML自动会自封闭
 	private void endEmptyElement(String objectElement) throws SAXException {
 		// level--;
 		handler.endElement("", "", objectElement);
 	}
 
-	// ӽڵԪسΪԣ<a>abc</a>
+	// 无子节点的元素成为属性，如<a>abc</a>
 	private void writeAttribute(String key, String value) throws SAXException {
 		if (value == null)
 			value = "";
@@ -91,7 +91,7 @@ public class ConfigOptionsWriter {
 		// level--;
 	}
 
-	// TabSAXĬϲԶҪֶԪزν
+	// Tab缩进，SAX默认不自动缩进，因此需要手动根据元素层次进行缩进控制
 	private void appendTab() throws SAXException {
 		StringBuffer sb = new StringBuffer(separator);
 		for (int i = 0; i < level; i++) {
@@ -102,7 +102,7 @@ public class ConfigOptionsWriter {
 	}
 
 	/**
-	 * Դͻдļ
+	 * 把数据源和环境写到文件
 	 * 
 	 * @param dslm
 	 * @throws SAXException
@@ -134,9 +134,9 @@ public class ConfigOptionsWriter {
 		handler.setResult(resultxml);
 		level = 0;
 		handler.startDocument();
-		// øڵͰ汾
+		// 设置根节点和版本
 		handler.startElement("", "", ConfigFile.ROOT, getAttributesImpl(new String[] { ConfigFile.VERSION, "1" }));
-		// ѡ
+		// 选项
 		level = 1;
 		startElement(ConfigFile.OPTIONS, null);
 		Map<String, Object> options = ConfigOptions.options;
@@ -152,7 +152,7 @@ public class ConfigOptionsWriter {
 		level = 1;
 		endElement(ConfigFile.OPTIONS);
 		
-		// λôС
+		// 窗口位置大小
 		startElement(ConfigFile.DIMENSIONS, null);
 		Map<String, String> dimensions = ConfigOptions.dimensions;
 		it = dimensions.keySet().iterator();
@@ -167,7 +167,7 @@ public class ConfigOptionsWriter {
 		endElement(ConfigFile.DIMENSIONS);
 		
 		
-		// Ϣ
+		// 连接信息
 		startElement(ConfigFile.CONNECTIONS, null);
 		Map<String, String> connections = ConfigOptions.connections;
 		it = connections.keySet().iterator();
@@ -183,7 +183,7 @@ public class ConfigOptionsWriter {
 
 		level = 0;
 		handler.endElement("", "", ConfigFile.ROOT);
-		// ĵ,ͬ
+		// 文档结束,同步到磁盘
 		handler.endDocument();
 	}
 
@@ -197,7 +197,7 @@ public class ConfigOptionsWriter {
 		AttributesImpl attrImpl = new AttributesImpl();
 		int size = attrs.length;
 		for (int i = 0; i < size; i += 2) {
-			if (attrs[i + 1] != null) // սڵ㲻д
+			if (attrs[i + 1] != null) // 空节点不写了
 				attrImpl.addAttribute("", "", attrs[i], String.class.getName(), String.valueOf(attrs[i + 1]));
 		}
 		return attrImpl;
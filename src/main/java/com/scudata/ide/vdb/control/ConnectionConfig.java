@@ -82,9 +82,9 @@ public class ConnectionConfig{
 				editChanged = false;
 				return true;
 			}
-			throw new Exception("ύݿʧܣΪ"+r);
+			throw new Exception("提交数据库失败，错误码为："+r);
 		}
-		throw new Exception("ύݿʧܣݿû");
+		throw new Exception("提交数据库失败，数据库没有启动。");
 	}
 	
 	public void rollback(){
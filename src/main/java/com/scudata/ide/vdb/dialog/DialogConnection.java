@@ -26,7 +26,7 @@ public class DialogConnection extends RQDialog implements ActionListener {
 	private ArrayList<String> existNames;
 
 	public DialogConnection(ArrayList<String> existNames) {
-		super("Ϣ", 450, 300);
+		super("连接信息", 450, 300);
 		init();
 		this.existNames = existNames;
 	}
@@ -34,7 +34,7 @@ public class DialogConnection extends RQDialog implements ActionListener {
 	protected boolean okAction(ActionEvent e) {
 		String newName = tfName.getText().trim();
 		if (!StringUtils.isValidString(newName)) {
-			JOptionPane.showMessageDialog(VDB.getInstance(), "ƲΪա");
+			JOptionPane.showMessageDialog(VDB.getInstance(), "连接名称不能为空。");
 			return false;
 		}
 		int n = existNames.size();
@@ -42,7 +42,7 @@ public class DialogConnection extends RQDialog implements ActionListener {
 			String name = existNames.get(i);
 			if (name.equalsIgnoreCase(newName)) {
 				JOptionPane.showMessageDialog(VDB.getInstance(),
-						"ظ֣" + newName);
+						"重复的连接名字：" + newName);
 				return false;
 			}
 		}
@@ -108,21 +108,21 @@ public class DialogConnection extends RQDialog implements ActionListener {
 
 	private void init() {
 		panelCenter.setLayout(new GridBagLayout());
-		panelCenter.add(new JLabel(""), GM.getGBC(0, 0));
+		panelCenter.add(new JLabel("名称"), GM.getGBC(0, 0));
 		panelCenter.add(tfName, GM.getGBC(0, 1, true, false));
-		panelCenter.add(new JLabel("URLļ"), GM.getGBC(1, 0));
+		panelCenter.add(new JLabel("URL或文件名"), GM.getGBC(1, 0));
 		JPanel tmp = new JPanel(new GridBagLayout());
 		tmp.add(tfUrl, GM.getGBC(0, 0, true, false, 0));
 		tmp.add(buttonUrl, GM.getGBC(0, 1, false, false, 0));
 		panelCenter.add(tmp, GM.getGBC(1, 1, true, false));
 
-		panelCenter.add(new JLabel("˿ں"), GM.getGBC(2, 0));
+		panelCenter.add(new JLabel("端口号"), GM.getGBC(2, 0));
 		panelCenter.add(tfPort, GM.getGBC(2, 1, true, false));
 
-		panelCenter.add(new JLabel("û"), GM.getGBC(3, 0));
+		panelCenter.add(new JLabel("用户名"), GM.getGBC(3, 0));
 		panelCenter.add(tfUser, GM.getGBC(3, 1, true, false));
 
-		panelCenter.add(new JLabel(""), GM.getGBC(4, 0));
+		panelCenter.add(new JLabel("密码"), GM.getGBC(4, 0));
 		panelCenter.add(jPassword, GM.getGBC(4, 1, true, false));
 
 		panelCenter.add(jCBReservePassword, GM.getGBC(5, 1, true, false));
@@ -132,7 +132,7 @@ public class DialogConnection extends RQDialog implements ActionListener {
 		buttonUrl.addActionListener(this);
 	}
 
-	private JTextField tfName = new JTextField();// 
+	private JTextField tfName = new JTextField();// 名称
 	private JTextField tfUrl = new JTextField();// Url
 	private JButton buttonUrl = new JButton();
 
@@ -140,6 +140,6 @@ public class DialogConnection extends RQDialog implements ActionListener {
 	private JTextField tfUser = new JTextField();// User
 	private JPasswordField jPassword = new JPasswordField();
 
-	private JCheckBox jCBReservePassword = new JCheckBox("ס");
+	private JCheckBox jCBReservePassword = new JCheckBox("记住密码");
 
 }
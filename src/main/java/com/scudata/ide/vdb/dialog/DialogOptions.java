@@ -24,15 +24,15 @@ import com.scudata.ide.vdb.resources.IdeMessage;
 public class DialogOptions extends RQDialog implements ActionListener {
 	private static final long serialVersionUID = 1L;
 
-	private JCheckBox jCBAutoOpen = new JCheckBox("Զ(ļ)");
-	private JCheckBox jCBLogException = new JCheckBox("쳣д־ļ");
-	private JCheckBox jCBWindowSize = new JCheckBox("䴰λôС");
+	private JCheckBox jCBAutoOpen = new JCheckBox("自动打开(最近文件)");
+	private JCheckBox jCBLogException = new JCheckBox("将异常写入日志文件");
+	private JCheckBox jCBWindowSize = new JCheckBox("记忆窗口位置大小");
 	private JComboBoxEx jCBLNF = new JComboBoxEx();
-	private JTextField textLogFileName = new JTextField();// ־ļ
+	private JTextField textLogFileName = new JTextField();// 日志文件
 	private JButton buttonLogFileName = new JButton();
 
 	public DialogOptions() {
-		super("ѡ",450, 300);
+		super("选项",450, 300);
 		init();
 		load();
 	}
@@ -108,7 +108,7 @@ public class DialogOptions extends RQDialog implements ActionListener {
 
 		panelFile.add(new JLabel(), GM.getGBC(0, 0));
 
-		panelFile.add(new JLabel("־ļ"), GM.getGBC(3, 0));
+		panelFile.add(new JLabel("日志文件"), GM.getGBC(3, 0));
 		panelFile.add(textLogFileName, GM.getGBC(3, 1, true));
 		panelFile.add(buttonLogFileName, GM.getGBC(3, 2));
 
@@ -0,0 +1,321 @@
+package com.scudata.parallel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Map;
+
+import com.scudata.array.IArray;
+import com.scudata.common.RQException;
+import com.scudata.dm.BaseRecord;
+import com.scudata.dm.DataStruct;
+import com.scudata.dm.Record;
+import com.scudata.dm.SerialBytes;
+import com.scudata.dm.Sequence;
+import com.scudata.dm.Table;
+import com.scudata.dw.BufferReader;
+import com.scudata.dw.BufferWriter;
+import com.scudata.dw.StructManager;
+
+/**
+ * 分机间通讯的二进制编码，用于SocketData协商成二进制协议后的数据帧
+ * 帧内容由帧类型、数据结构表和数据组成，数据使用BufferWriter的类型标记编码，
+ * 排列的记录按列编码，相邻的相同值只写一次；BufferWriter不能精确表示的对象用java序列化
+ * @author RunQian
+ *
+ */
+final class BinaryProtocol {
+	// 帧类型
+	private static final int KIND_NULL = 0;
+	private static final int KIND_REQUEST = 1;
+	private static final int KIND_RESPONSE = 2;
+	private static final int KIND_OBJECT = 3;
+
+	// 值的编码方式
+	private static final int VALUE_BUFFER = 0; // BufferWriter编码
+	private static final int VALUE_COLUMNS = 1; // 排列按列编码
+	private static final int VALUE_JAVA = 2; // java序列化
+
+	private BinaryProtocol() {
+	}
+
+	/**
+	 * 双精度数按64位写出，BufferWriter缺省的写法会把接近整数或两位、四位小数的值取成近似值
+	 */
+	private static class ExactWriter extends BufferWriter {
+		public ExactWriter(StructManager structManager) {
+			super(structManager);
+		}
+
+		public void writeDouble(double d) throws IOException {
+			write(FLOAT64);
+			writeLong64(Double.doubleToLongBits(d));
+		}
+	}
+
+	/**
+	 * 把对象编码成帧内容
+	 * @param obj Request、Response或者其它对象
+	 * @return 字节数组
+	 * @throws IOException
+	 */
+	public static byte[] encode(Object obj) throws IOException {
+		StructManager structManager = new StructManager();
+		BufferWriter writer = new ExactWriter(structManager);
+		int kind;
+
+		if (obj == null) {
+			kind = KIND_NULL;
+		} else if (obj.getClass() == Request.class) {
+			kind = KIND_REQUEST;
+			Request req = (Request)obj;
+			Map<?, ?> attrs = req.getAttrs();
+			writer.writeInt(req.getAction());
+			writer.writeInt(attrs.size());
+
+			for (Map.Entry<?, ?> entry : attrs.entrySet()) {
+				writer.writeString((String)entry.getKey());
+				writeValue(writer, structManager, entry.getValue());
+			}
+		} else if (obj.getClass() == Response.class) {
+			kind = KIND_RESPONSE;
+			Response res = (Response)obj;
+			writeValue(writer, structManager, res.getResult());
+			writeJava(writer, res.getException());
+			writeJava(writer, res.getError());
+		} else {
+			kind = KIND_OBJECT;
+			writeValue(writer, structManager, obj);
+		}
+
+		byte []data = writer.finish();
+
+		// 数据结构在写数据时产生，写在数据的前面
+		ArrayList<DataStruct> dsList = structManager.getStructList();
+		int count = dsList.size();
+		writer.write(kind);
+		writer.writeInt(count);
+		for (int i = 0; i < count; ++i) {
+			DataStruct ds = dsList.get(i);
+			writer.writeStrings(ds.getFieldNames());
+			writer.writeStrings(ds.getPrimary());
+		}
+
+		writer.write(data);
+		return writer.finish();
+	}
+
+	/**
+	 * 把帧内容解码成对象
+	 * @param buffer 字节数组
+	 * @param len 长度
+	 * @return 对象
+	 * @throws IOException
+	 */
+	public static Object decode(byte []buffer, int len) throws IOException {
+		ArrayList<DataStruct> dsList = new ArrayList<DataStruct>();
+		StructManager structManager = new StructManager(dsList);
+		BufferReader reader = new BufferReader(structManager, buffer, 0, len);
+		int kind = reader.read();
+		int count = reader.readInt();
+		for (int i = 0; i < count; ++i) {
+			DataStruct ds = new DataStruct(reader.readStrings());
+			String []primary = reader.readStrings();
+			if (primary != null) {
+				ds.setPrimary(primary);
+			}
+
+			dsList.add(ds);
+		}
+
+		switch (kind) {
+		case KIND_NULL:
+			return null;
+		case KIND_REQUEST:
+			Request req = new Request(reader.readInt());
+			count = reader.readInt();
+			for (int i = 0; i < count; ++i) {
+				String key = reader.readString();
+				req.setAttr(key, readValue(reader, structManager));
+			}
+
+			return req;
+		case KIND_RESPONSE:
+			Response res = new Response(readValue(reader, structManager));
+			res.setException((Exception)readJava(reader));
+			res.setError((Error)readJava(reader));
+			return res;
+		default:
+			return readValue(reader, structManager);
+		}
+	}
+
+	private static void writeValue(BufferWriter writer, StructManager structManager, Object obj) throws IOException {
+		if (obj instanceof Sequence && isExactTable((Sequence)obj)) {
+			// 排列按列写出，同一列的值类型相同、重复值多，编码更紧凑
+			Sequence seq = (Sequence)obj;
+			IArray mems = seq.getMems();
+			int len = mems.size();
+			DataStruct ds = seq.dataStruct();
+			int fcount = ds.getFieldCount();
+
+			writer.write(VALUE_COLUMNS);
+			writer.writeInt(structManager.getDataStructID(ds));
+			writer.writeBoolean(obj instanceof Table);
+			writer.writeInt(len);
+			for (int f = 0; f < fcount; ++f) {
+				for (int i = 1; i <= len; ++i) {
+					writer.writeObject(((BaseRecord)mems.get(i)).getNormalFieldValue(f));
+				}
+			}
+
+			writer.flush();
+		} else if (isExact(obj)) {
+			writer.write(VALUE_BUFFER);
+			writer.writeObject(obj);
+			writer.flush();
+		} else {
+			writer.write(VALUE_JAVA);
+			writer.writeBytes(serialize(obj));
+		}
+	}
+
+	private static Object readValue(BufferReader reader, StructManager structManager) throws IOException {
+		int type = reader.read();
+		if (type == VALUE_COLUMNS) {
+			DataStruct ds = structManager.getDataStruct(reader.readInt());
+			boolean isTable = reader.readBoolean();
+			int len = reader.readInt();
+			int fcount = ds.getFieldCount();
+
+			Record []records = new Record[len];
+			for (int i = 0; i < len; ++i) {
+				records[i] = new Record(ds);
+			}
+
+			for (int f = 0; f < fcount; ++f) {
+				for (int i = 0; i < len; ++i) {
+					records[i].setNormalFieldValue(f, reader.readObject());
+				}
+			}
+
+			Sequence seq = isTable ? new Table(ds, len) : new Sequence(len);
+			IArray mems = seq.getMems();
+			for (int i = 0; i < len; ++i) {
+				mems.add(records[i]);
+			}
+
+			return seq;
+		} else if (type == VALUE_BUFFER) {
+			return reader.readObject();
+		} else {
+			return deserialize(reader.readByteArray());
+		}
+	}
+
+	private static void writeJava(BufferWriter writer, Object obj) throws IOException {
+		if (obj == null) {
+			writer.writeBytes((byte[])null);
+		} else {
+			writer.writeBytes(serialize(obj));
+		}
+	}
+
+	private static Object readJava(BufferReader reader) throws IOException {
+		byte []bytes = reader.readByteArray();
+		return bytes == null ? null : deserialize(bytes);
+	}
+
+	private static byte[] serialize(Object obj) throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(bos);
+		oos.writeObject(obj);
+		oos.close();
+		return bos.toByteArray();
+	}
+
+	private static Object deserialize(byte []bytes) throws IOException {
+		ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes));
+		try {
+			return ois.readObject();
+		} catch (ClassNotFoundException e) {
+			throw new RQException(e.getMessage(), e);
+		} finally {
+			ois.close();
+		}
+	}
+
+	// 是否是成员为同结构记录的序列或序表，并且字段值都能精确编码
+	private static boolean isExactTable(Sequence seq) {
+		Class<?> c = seq.getClass();
+		if (c != Sequence.class && c != Table.class) {
+			return false;
+		}
+
+		IArray mems = seq.getMems();
+		int len = mems.size();
+		if (len == 0 || seq.dataStruct() == null) {
+			return false;
+		}
+
+		for (int i = 1; i <= len; ++i) {
+			Object r = mems.get(i);
+			if (r.getClass() != Record.class || !isExactValues(((Record)r).getFieldValues())) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	// 是否能用BufferWriter精确编码，解码后类型不变
+	private static boolean isExact(Object obj) {
+		if (obj == null || obj instanceof String || obj instanceof Integer ||
+				obj instanceof Long || obj instanceof Double || obj instanceof BigDecimal ||
+				obj instanceof Boolean || obj instanceof byte[] || obj instanceof SerialBytes) {
+			return true;
+		}
+
+		Class<?> c = obj.getClass();
+		if (c == java.sql.Date.class || c == java.sql.Time.class) {
+			return true;
+		} else if (c == java.sql.Timestamp.class) {
+			return ((java.sql.Timestamp)obj).getNanos() % 1000000 == 0;
+		} else if (c == Record.class) {
+			return isExactValues(((Record)obj).getFieldValues());
+		} else if (c == Table.class) {
+			return isExactTable((Sequence)obj) || ((Sequence)obj).length() == 0;
+		} else if (c == Sequence.class) {
+			// 成员为同结构记录的序列会被BufferWriter写成序表
+			Sequence seq = (Sequence)obj;
+			if (seq.length() > 0 && seq.dataStruct() != null) {
+				return false;
+			}
+
+			IArray mems = seq.getMems();
+			for (int i = 1, len = mems.size(); i <= len; ++i) {
+				if (!isExact(mems.get(i))) {
+					return false;
+				}
+			}
+
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	private static boolean isExactValues(Object []values) {
+		for (Object obj : values) {
+			if (!isExact(obj)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
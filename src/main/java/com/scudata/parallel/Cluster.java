@@ -10,26 +10,26 @@ import com.scudata.dm.JobSpace;
 import com.scudata.dm.JobSpaceManager;
 
 /**
- * ڵȺ
+ * 节点机集群
  * @author RunQian
  *
  */
 public class Cluster implements Externalizable {
 	private static final long serialVersionUID = 1L;
 	
-	private String []hosts; // ip
-	private int []ports; // ˿
-	private Context ctx; // 
+	private String []hosts; // ip数组
+	private int []ports; // 端口数组
+	private Context ctx; // 计算上下文
 	
-	// лʹ
+	// 序列化是使用
 	public Cluster() {
 	}
 	
 	/**
-	 * ڵȺ
-	 * @param hosts ip
-	 * @param ports ˿
-	 * @param ctx 
+	 * 构建节点机集群
+	 * @param hosts ip数组
+	 * @param ports 端口数组
+	 * @param ctx 计算上下文
 	 */
 	public Cluster(String[] hosts, int[] ports, Context ctx) {
 		this.hosts = hosts;
@@ -60,7 +60,7 @@ public class Cluster implements Externalizable {
 	}
 	
 	/**
-	 * ȡڵ
+	 * 取节点机数量
 	 * @return int
 	 */
 	public int getUnitCount() {
@@ -76,7 +76,7 @@ public class Cluster implements Externalizable {
 		return hosts;
 	}
 	
-	//ȡֻ
+	//根据序号取分机
 	public String getHost(int unit) {
 		return hosts[unit];
 	}
@@ -97,7 +97,7 @@ public class Cluster implements Externalizable {
 		return ctx.getJobSpace().getID();
 	}
 	
-	// ȡ̹ɵļȺû÷ֽ򷵻null
+	// 取本机进程构成的集群，如果没有配置分进程则返回null
 	public static Cluster getHostCluster() {
 		return null;
 	}
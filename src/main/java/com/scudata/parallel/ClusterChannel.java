@@ -16,13 +16,13 @@ import com.scudata.expression.Function;
 import com.scudata.expression.FunctionLib;
 
 /**
- * Ⱥܵ
+ * 集群管道
  * @author RunQian
  *
  */
 public class ClusterChannel extends Channel {
 	private Cluster cluster;
-	private int []channelProxyIds; // ӦĽڵܵʶ
+	private int []channelProxyIds; // 对应的节点机管道代理标识
 	
 	public ClusterChannel(ClusterChannel channel, Context ctx) {
 		super(ctx);
@@ -127,9 +127,9 @@ public class ClusterChannel extends Channel {
 	}
 	
 	/**
-	 * Ⱥܵ
-	 * @param op 
-	 * @param ctx 
+	 * 给集群管道附加运算
+	 * @param op 运算
+	 * @param ctx 计算上下文
 	 */
 	public Operable addOperation(Operation op, Context ctx) {
 		super.addOperation(op, ctx);
@@ -165,9 +165,9 @@ public class ClusterChannel extends Channel {
 	}
 
 	/**
-	 * ڵִΪܵ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行为管道附加运算
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeAddOperation(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -193,8 +193,8 @@ public class ClusterChannel extends Channel {
 	}
 
 	/**
-	 * ܵǰΪ
-	 * @return ǰȺܵ
+	 * 保留管道当前数据做为结果集
+	 * @return 当前集群管道
 	 */
 	public Channel fetch() {
 		super.fetch();
@@ -220,9 +220,9 @@ public class ClusterChannel extends Channel {
 	}
 
 	/**
-	 * ڵִбܵǰΪ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行保留管道当前数据做为结果集
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeFetch(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -242,13 +242,13 @@ public class ClusterChannel extends Channel {
 	}
 	
 	/**
-	 * ΪȺܵӷ
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @return ǰȺܵ
+	 * 为集群管道添加分组结果集函数
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @return 当前集群管道
 	 */
 	public Channel groups(Expression[] exps, String[] names,
 			   Expression[] calcExps, String[] calcNames, String opt) {
@@ -305,9 +305,9 @@ public class ClusterChannel extends Channel {
 	}
 	
 	/**
-	 * ڵִΪܵӷ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行为管道添加分组运算
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeGroups(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -352,14 +352,14 @@ public class ClusterChannel extends Channel {
 	}
 
 	/**
-	 * ΪȺܵ
-	 * @param exps ʽ
-	 * @param names	ֶ
-	 * @param calcExps ܱʽ
-	 * @param calcNames	ֶ
-	 * @param opt ѡ
-	 * @param capacity ڴܹŵķ
-	 * @return ǰȺܵ
+	 * 为集群管道添加外存分组结果集函数
+	 * @param exps 分组表达式数组
+	 * @param names	分组字段名数组
+	 * @param calcExps 汇总表达式数组
+	 * @param calcNames	汇总字段名数组
+	 * @param opt 选项
+	 * @param capacity 内存能够存放的分组结果的数量
+	 * @return 当前集群管道
 	 */
 	public Channel groupx(Expression[] exps, String[] names,
 			   Expression[] calcExps, String[] calcNames, String opt, int capacity) {
@@ -417,9 +417,9 @@ public class ClusterChannel extends Channel {
 	}
 
 	/**
-	 * ڵִΪܵ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行为管道添加外存分组运算
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeGroupx(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -465,11 +465,11 @@ public class ClusterChannel extends Channel {
 	}
 	
 	/**
-	 * ΪȺܵ
-	 * @param exps ʽ
-	 * @param capacity ڴܹļ¼ûԶһ
-	 * @param opt ѡ
-	 * @return ǰȺܵ
+	 * 为集群管道添加外存排序结果集函数
+	 * @param exps 排序表达式数组
+	 * @param capacity 内存中能够保存的记录数，如果没有设置则自动估算一个
+	 * @param opt 选项
+	 * @return 当前集群管道
 	 */
 	public Channel sortx(Expression[] exps, int capacity, String opt) {
 		super.sortx(exps, capacity, opt);
@@ -506,9 +506,9 @@ public class ClusterChannel extends Channel {
 	}
 
 	/**
-	 * ڵִΪܵ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行为管道添加外存排序运算
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeSortx(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -539,7 +539,7 @@ public class ClusterChannel extends Channel {
 	}
 	
 	/**
-	 * ؼȺܵļ
+	 * 返回集群管道的计算结果
 	 * @return Object
 	 */
 	public Object result() {
@@ -562,7 +562,7 @@ public class ClusterChannel extends Channel {
  				results[i] = response.checkResult();
  				
  				if (results[i] instanceof Integer) {
- 					// αid
+ 					// 游标代理id
  					int id = ((Integer)results[i]).intValue();
  					results[i] = new RemoteCursor(cluster.getHost(i), cluster.getPort(i), id);
  				}
@@ -575,8 +575,8 @@ public class ClusterChannel extends Channel {
 	}
 
 	/**
-	 * ڵִȡܵļ
-	 * @return Response ĻӦ
+	 * 节点机上执行取管道的计算结果
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeResult(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
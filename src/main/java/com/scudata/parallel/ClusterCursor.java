@@ -1,6 +1,7 @@
 package com.scudata.parallel;
 
 import java.util.HashMap;
+import java.util.LinkedList;
 
 import com.scudata.common.MessageManager;
 import com.scudata.common.RQException;
@@ -30,27 +31,36 @@ import com.scudata.thread.ThreadPool;
 import com.scudata.util.CursorUtil;
 
 /**
- * Ⱥα
+ * 集群游标
  * @author RunQian
  *
  */
 public class ClusterCursor extends ICursor implements IClusterObject, IMultipath {
-	// αԴʲôClusterTableMetaDataClusterMemoryTableм
+	// 游标的来源，即由什么创建，可能是ClusterTableMetaData、ClusterMemoryTable或其它中间结果
 	private IClusterObject source; 
-	private Cluster cluster; // ڵϢ
-	private int []cursorProxyIds; // ӦĽڵαʶ
-	private boolean isDistributed; // Ƿֲαֲ꣬ļ߷ֶΪֲα
-	//private boolean isDistributedFile; // ˼ȺαǷֲα껹Ǹдα
-	private int current = 0; // ǰȡα
+	private Cluster cluster; // 节点机信息
+	private int []cursorProxyIds; // 对应的节点机游标代理标识
+	private boolean isDistributed; // 是否分布游标，分布文件或者分段则为分布游标
+	//private boolean isDistributedFile; // 此集群游标是分布游标还是复写游标
+	private int current = 0; // 当前正在取数的游标
 
-	private Expression distribute; // ֲʽΪ
-	private String []sortedColNames; // ֶ
+	private Expression distribute; // 分布表达式，可以为空
+	private String []sortedColNames; // 主键或排序字段
+	
+	// 按窗口预取：在节点机的长连接上保持window个已发出还没取应答的取数请求，节点机在后台提前取数
+	private static int fetchWindow = 4; // 预取的批数，0表示每批取数都等应答
+	private UnitClient fetchClient; // 当前预取的节点机的连接
+	private int fetchUnit = -1; // fetchClient对应的节点机序号
+	private LinkedList<Integer> pendingIds = new LinkedList<Integer>(); // 已发出还没取应答的请求号
+	private int batchSize; // 预取时每批的数量
+	private Sequence buffer; // 已收到还没返回给调用者的数据
+	private boolean isFetchEnd; // 当前节点机是否已经取完
 	
 	/**
-	 * Ⱥα
-	 * @param source ԴClusterTableMetaDataClusterMemoryTableм
-	 * @param cursorProxyIds ӦĽڵαproxy id
-	 * @param isDistributed Ƿֲα
+	 * 创建集群游标
+	 * @param source 来源，可能是ClusterTableMetaData、ClusterMemoryTable或其它中间结果
+	 * @param cursorProxyIds 对应的节点机游标proxy id
+	 * @param isDistributed 是否分布游标
 	 */
 	public ClusterCursor(IClusterObject source, int []cursorProxyIds, boolean isDistributed) {
 		this.source = source;
@@ -61,10 +71,10 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * Ⱥα
-	 * @param cluster ڵϢ
-	 * @param cursorProxyIds ӦĽڵαproxy id
-	 * @param isDistributed Ƿֲα
+	 * 创建集群游标
+	 * @param cluster 节点机信息
+	 * @param cursorProxyIds 对应的节点机游标proxy id
+	 * @param isDistributed 是否分布游标
 	 */
 	public ClusterCursor(Cluster cluster, int []cursorProxyIds, boolean isDistributed) {
 		this.cluster = cluster;
@@ -73,8 +83,8 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ǷǷֲα
-	 * @return trueǣfalse
+	 * 返回是否是分布游标
+	 * @return true：是，false：不是
 	 */
 	public boolean isDistributed() {
 		return isDistributed;
@@ -96,7 +106,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		return cursorProxyIds[unit];
 	}
 		
-	// ǷǷֲα
+	// 是否是分布游标
 	//public boolean isDistributedFile() {
 	//	return isDistributedFile;
 	//}
@@ -106,24 +116,24 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 
 	/**
-	 * ֲʽ
-	 * @param distribute ֲʽ
+	 * 设置组表分布表达式
+	 * @param distribute 分布表达式
 	 */
 	public void setDistribute(Expression distribute) {
 		this.distribute = distribute;
 	}
 	
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 取排序字段名
+	 * @return 字段名数组
 	 */
 	public String[] getSortedColNames() {
 		return sortedColNames;
 	}
 
 	/**
-	 * ֶ
-	 * @param sortedColNames ֶ
+	 * 设置组表排序字段名
+	 * @param sortedColNames 字段名数组
 	 */
 	public void setSortedColNames(String[] sortedColNames) {
 		this.sortedColNames = sortedColNames;
@@ -133,6 +143,11 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		Cluster cluster = getCluster();
 		UnitClient client = new UnitClient(cluster.getHost(current), cluster.getPort(current));
 		
+		// 节点机是本机时不建立连接，命令在本机执行，不能预取
+		if (fetchWindow > 0 && !client.isEqualToLocal()) {
+			return fetchAhead(current, n);
+		}
+		
 		try {
 			UnitCommand command = new UnitCommand(UnitCommand.CURSOR_FETCH);
 			command.setAttribute("jobSpaceId", cluster.getJobSpaceId());
@@ -147,19 +162,164 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ڵִαȡ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 设置取数时的预取批数，0表示不预取
+	 * @param window 批数
+	 */
+	public static void setFetchWindow(int window) {
+		fetchWindow = window;
+	}
+	
+	/**
+	 * 取预取批数
+	 * @return int
+	 */
+	public static int getFetchWindow() {
+		return fetchWindow;
+	}
+	
+	// 从指定节点机取数，数据从预取的批次里取，同时保持窗口内有window个请求在途
+	private Sequence fetchAhead(int unit, int n) {
+		try {
+			if (fetchUnit != unit) {
+				closeFetchClient();
+				Cluster cluster = getCluster();
+				UnitClient client = new UnitClient(cluster.getHost(unit), cluster.getPort(unit));
+				client.connect();
+				fetchClient = client;
+				fetchUnit = unit;
+				isFetchEnd = false;
+				batchSize = n > FETCHCOUNT ? n : FETCHCOUNT;
+			}
+			
+			Sequence result = null;
+			int size = 0;
+			while (size < n) {
+				Sequence seq = buffer;
+				buffer = null;
+				if (seq == null) {
+					if (isFetchEnd) {
+						break;
+					}
+					
+					while (pendingIds.size() < fetchWindow) {
+						postFetch();
+					}
+					
+					seq = takeFetch();
+					if (seq == null || seq.length() == 0) {
+						isFetchEnd = true;
+						break;
+					}
+				}
+				
+				int len = seq.length();
+				if (size + len > n) {
+					buffer = seq.split(n - size + 1);
+					len = n - size;
+				}
+				
+				result = result == null ? seq : append(result, seq);
+				size += len;
+			}
+			
+			if (isFetchEnd && buffer == null) {
+				closeFetchClient();
+			}
+			
+			return result;
+		} catch (RQException e) {
+			closeFetchClient();
+			throw e;
+		} catch (Exception e) {
+			closeFetchClient();
+			throw new RQException(e.getMessage(), e);
+		}
+	}
+	
+	private void postFetch() throws Exception {
+		Cluster cluster = getCluster();
+		UnitCommand command = new UnitCommand(UnitCommand.CURSOR_FETCH);
+		command.setAttribute("jobSpaceId", cluster.getJobSpaceId());
+		command.setAttribute("cursorProxyId", new Integer(cursorProxyIds[fetchUnit]));
+		command.setAttribute("count", new Integer(batchSize));
+		command.setAttribute("window", new Integer(fetchWindow));
+		
+		Request req = new Request(Request.UNITCOMMAND_EXE);
+		req.setAttr(Request.EXE_Object, command);
+		pendingIds.add(fetchClient.post(req));
+	}
+	
+	private Sequence takeFetch() throws Exception {
+		Response response = fetchClient.take(pendingIds.removeFirst());
+		return (Sequence)response.checkResult();
+	}
+	
+	// 取出已预取的数据并关闭预取连接，节点机上没用到的预取数据会在跳过、关闭等操作时放回游标
+	private Sequence drainFetch() {
+		Sequence result = buffer;
+		buffer = null;
+		if (fetchClient == null) {
+			return result;
+		}
+		
+		try {
+			while (pendingIds.size() > 0) {
+				Sequence seq = takeFetch();
+				if (seq != null && seq.length() > 0) {
+					result = result == null ? seq : append(result, seq);
+				}
+			}
+		} catch (RQException e) {
+			closeFetchClient();
+			throw e;
+		} catch (Exception e) {
+			closeFetchClient();
+			throw new RQException(e.getMessage(), e);
+		}
+		
+		closeFetchClient();
+		return result;
+	}
+	
+	// 关闭预取连接，先取走在途请求的应答，已收到的数据保留在buffer中
+	private void closeFetchClient() {
+		if (fetchClient != null) {
+			try {
+				while (pendingIds.size() > 0) {
+					fetchClient.take(pendingIds.removeFirst());
+				}
+			} catch (Exception e) {
+			}
+			
+			fetchClient.close();
+			fetchClient = null;
+		}
+		
+		pendingIds.clear();
+		fetchUnit = -1;
+	}
+	
+	/**
+	 * 节点机上执行游标取数
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeFetch(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
 		Integer cursorProxyId = (Integer)attributes.get("cursorProxyId");
 		Integer count = (Integer)attributes.get("count");
+		Integer window = (Integer)attributes.get("window");
 		
 		try {
 			JobSpace js = JobSpaceManager.getSpace(jobSpaceID);
 			ResourceManager rm = js.getResourceManager();
 			CursorProxy cursor = (CursorProxy)rm.getProxy(cursorProxyId.intValue());
+			if (window != null && window.intValue() > 0) {
+				// 主机按窗口连续请求，节点机在后台提前取数
+				Sequence result = cursor.fetchAhead(count.intValue(), window.intValue());
+				return new Response(result);
+			}
+			
 			if (cursor.getCursor() == null) 
 				return new Response();
 			Sequence result = cursor.getCursor().fetch(count.intValue());
@@ -190,9 +350,9 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ڵִα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行跳过游标数据
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeSkip(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -213,8 +373,8 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 
 	/**
-	 * ȡ
-	 * @param n 
+	 * 取数
+	 * @param n 数量
 	 */
 	protected Sequence get(int n) {
 		if (current == -1) {
@@ -222,7 +382,9 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		}
 		
 		Sequence result = null;
-		if (n == MAXSIZE) { // ȡ
+		if (n == MAXSIZE) { // 取出所有
+			// 先取出当前节点机已经预取的数据
+			result = drainFetch();
 			Cluster cluster = getCluster();
 			int count = cluster.getUnitCount();
 			int len = count - current;
@@ -273,15 +435,27 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ָ
-	 * @param n 
+	 * 跳过指定行
+	 * @param n 行数
 	 */
 	protected long skipOver(long n) {
 		if (current == -1) {
 			return 0;
 		}
 		
+		// 先跳过当前节点机已经预取的数据
 		long size = 0;
+		Sequence seq = drainFetch();
+		if (seq != null) {
+			int len = seq.length();
+			if (len > n) {
+				buffer = seq.split((int)n + 1);
+				return n;
+			}
+			
+			size = len;
+		}
+		
 		while (size < n) {
 			long cur = skip(current, n - size);
 			if (cur == 0) {
@@ -299,6 +473,8 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	
 	public void close() {
 		super.close();
+		closeFetchClient();
+		buffer = null;
 		
 		Cluster cluster = getCluster();
 		int count = cluster.getUnitCount();
@@ -319,9 +495,9 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ڵִйرα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行关闭游标
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeClose(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -372,9 +548,9 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ڵִиα긽
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行给游标附加运算
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeAddOperation(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -400,27 +576,27 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ԼȺα
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @param groupCount 
-	 * @param newNames Էֶ
-	 * @param newExps Էıʽ
-	 * @return 
+	 * 对集群游标做分组运算
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @param groupCount 结果集数量
+	 * @param newNames 对分组结果产生新序表的字段名数组
+	 * @param newExps 对分组结果产生新序表的表达式数组
+	 * @return 分组结果
 	 */
 	public Object groups(Expression[] exps, String[] names, Expression[] calcExps, String[] calcNames, 
 			String opt, Context ctx, int groupCount, String[] newNames, Expression[] newExps) {
-		// @cִֻУƴɼȺڱcsֲȺά
+		// @c：分机独立执行，结果集拼成集群内表，保持cs分布，可用作集群维表
 		boolean copt = opt != null && opt.indexOf('c') != -1;
 		
 		int dcount = 0;
 		int mcount = 0;
 		if (exps != null) {
-			// ʡ˷ֶݷʽԶ
+			// 如果省略了分组字段名则根据分组表达式自动生成
 			dcount = exps.length;
 			if (names == null) {
 				names = new String[dcount];
@@ -434,7 +610,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		}
 
 		if (calcExps != null) {			
-			// ʡ˻ֶݻܱʽԶ
+			// 如果省略了汇总字段名则根据汇总表达式自动生成
 			mcount = calcExps.length;
 			if (calcNames == null) {
 				calcNames = new String[mcount];
@@ -467,7 +643,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 			}
 		}
 		
-		// @cѡʱڽڵսؼȺڱ
+		// @c选项时在节点机生产最终结果，返回集群内表
 		String []newExpStrs = null;
 		if (copt && newNames != null) {
 			int count = newExps.length;
@@ -506,11 +682,11 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 			pool.submit(jobs[i]);
 		}
 		
-		// @cִֻУƴɼȺڱcsֲȺά
+		// @c：分机独立执行，结果集拼成集群内表，保持cs分布，可用作集群维表
 		if (copt) {
 			RemoteMemoryTable []tables = new RemoteMemoryTable[count];
 			for (int i = 0; i < count; ++i) {
-				// ȴִ
+				// 等待任务执行完毕
 				jobs[i].join();
 				tables[i] = (RemoteMemoryTable)jobs[i].getResult();
 			}
@@ -520,12 +696,12 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		
 		Sequence result = new Sequence();
 		for (int i = 0; i < count; ++i) {
-			// ȴִ
+			// 等待任务执行完毕
 			jobs[i].join();
 			result.addAll((Sequence)jobs[i].getResult());
 		}
 		
-		// ·α갴ֶβֵ
+		// 各路游标按分组字段拆分的
 		if (opt != null && opt.indexOf('o') != -1) {
 			if (newNames != null) {
 				int groupFieldCount = 0;
@@ -570,24 +746,24 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		if (opt == null || opt.indexOf('d') == -1) {
 			return table;
 		} else {
-			// @d ƵֻƴɼȺдڱ
+			// @d 结果集复制到分机上拼成集群复写内表
 			return ClusterMemoryTable.dupLocal(cluster, table);
 		}
 	}	
 
 	/**
-	 * ֶβǵܺʱֶλᱻɶֶΣҪŷnewһ
+	 * 当汇总字段不是单个汇总函数时，汇总字段会被拆成多个字段，最后需要对着分组结果再new一下
 	 * @param result
 	 * @param newNames
 	 * @param newExps
 	 * @param ctx
-	 * @param groupFieldCount ֶ
+	 * @param groupFieldCount 分组字段数
 	 * @return
 	 */
 	private static Table newGroupsResult(Sequence result, String []newNames, Expression []newExps, Context ctx, int groupFieldCount) {
 		Table table = result.newTable(newNames, newExps, ctx);
 		
-		// зֶ÷ֶΪ
+		// 如果有分组字段则设置分组字段为主键
 		if (groupFieldCount > 0) {
 			String []pk = new String[groupFieldCount];
 			for (int i = 1; i <= groupFieldCount; ++i) {
@@ -601,9 +777,9 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ڵִα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行游标分组汇总运算
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeGroups(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -618,7 +794,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		JobSpace js = JobSpaceManager.getSpace(jobSpaceID);
 		Context ctx = ClusterUtil.createContext(js, attributes);
 		
-		// @cִֻУƴɼȺڱcsֲȺά
+		// @c：分机独立执行，结果集拼成集群内表，保持cs分布，可用作集群维表
 		boolean copt = opt != null && opt.indexOf('c') != -1;
 		String []newNames = null;
 		String []newExpStrs = null;
@@ -664,7 +840,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 			}
 			
 			if (copt) {
-				// @cִֻУƴɼȺڱcsֲȺά
+				// @c：分机独立执行，结果集拼成集群内表，保持cs分布，可用作集群维表
 				if (newNames != null) {
 					int groupFieldCount = 0;
 					if ((opt == null || opt.indexOf('b') == -1) && exps != null) {
@@ -691,10 +867,10 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * αл
-	 * @param calcExps ܱʽ
-	 * @param ctx 
-	 * @return ֻһܱʽػܽ򷵻ػܽɵ
+	 * 对游标进行汇总
+	 * @param calcExps 汇总表达式数组
+	 * @param ctx 计算上下文
+	 * @return 如果只有一个汇总表达式返回汇总结果，否则返回汇总结果构成的序列
 	 */
 	/*public Object total(Expression[] calcExps, Context ctx) {
 		int valCount = calcExps.length;
@@ -726,7 +902,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 			result = new Table(fnames, count);
 			
 			for (int i = 0; i < count; ++i) {
-				// ȴִ
+				// 等待任务执行完毕
 				jobs[i].join();
 				BaseRecord r = result.newLast();
 				r.setNormalFieldValue(0, jobs[i].getResult());
@@ -739,14 +915,14 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 			
 			result = new Table(fnames, count);
 			for (int i = 0; i < count; ++i) {
-				// ȴִ
+				// 等待任务执行完毕
 				jobs[i].join();
 				Sequence seq = (Sequence)jobs[i].getResult();
 				result.newLast(seq.toArray());
 			}
 		}
 		
-		// ɶλܱʽ
+		// 生成二次汇总表达式
 		Expression []valExps = new Expression[valCount];
 		for (int i = 0; i < valCount; ++i) {
 			Node gather = calcExps[i].getHome();
@@ -754,16 +930,16 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 			valExps[i] = gather.getRegatherExpression(i + 1);
 		}
 		
-		// жλ
+		// 进行二次汇总
 		TotalResult total = new TotalResult(valExps, ctx);
 		total.push(result, ctx);
 		return total.result();
 	}*/
 	
 	/**
-	 * ڵִα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行游标汇总运算
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeTotal(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -798,10 +974,10 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ѼȺαɼȺڱ
-	 * @param fields Ҫȡֶ
-	 * @param ctx 
-	 * @return Ⱥڱ
+	 * 把集群游标读成集群内表
+	 * @param fields 要读取的字段
+	 * @param ctx 计算上下文
+	 * @return 集群内表
 	 */
 	public ClusterMemoryTable memory(String []fields, Context ctx) {
 		Cluster cluster = getCluster();
@@ -822,7 +998,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		
 		RemoteMemoryTable[] tables = new RemoteMemoryTable[count];
 		for (int i = 0; i < count; ++i) {
-			// ȴִ
+			// 等待任务执行完毕
 			jobs[i].join();
 			tables[i] = (RemoteMemoryTable)jobs[i].getResult();
 		}
@@ -834,9 +1010,9 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ڵִаαݱڱ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行把游标数据变成内表
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeMemory(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -886,15 +1062,15 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ԼȺα
-	 * @param exps ʽ
-	 * @param names	ֶ
-	 * @param calcExps ܱʽ
-	 * @param calcNames	ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @param capacity ڴܹŵķ
-	 * @return α
+	 * 对集群游标做外存分组运算
+	 * @param exps 分组表达式数组
+	 * @param names	分组字段名数组
+	 * @param calcExps 汇总表达式数组
+	 * @param calcNames	汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @param capacity 内存能够存放的分组结果的数量
+	 * @return 分组结果游标
 	 */
 	public ICursor groupx(Expression[] exps, String[] names,
 			Expression[] calcExps, String[] calcNames, String opt, Context ctx, int capacity) {
@@ -902,7 +1078,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		int mcount = 0;
 		
 		if (exps != null) {
-			// ʡ˷ֶݷʽԶ
+			// 如果省略了分组字段名则根据分组表达式自动生成
 			dcount = exps.length;
 			if (names == null) {
 				names = new String[dcount];
@@ -916,7 +1092,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		}
 
 		if (calcExps != null) {
-			// ʡ˻ֶݻܱʽԶ
+			// 如果省略了汇总字段名则根据汇总表达式自动生成
 			mcount = calcExps.length;
 			if (calcNames == null) {
 				calcNames = new String[mcount];
@@ -972,11 +1148,11 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 			pool.submit(jobs[i]);
 		}
 		
-		// @cִֻУƴɼȺڱcsֲȺά
+		// @c：分机独立执行，结果集拼成集群内表，保持cs分布，可用作集群维表
 		if (opt != null && opt.indexOf('c') != -1) {
 			int[] cursorProxyIds = new int[count];
 			for (int i = 0; i < count; ++i) {
-				// ȴִ
+				// 等待任务执行完毕
 				jobs[i].join();
 				Integer id = (Integer)jobs[i].getResult();
 				cursorProxyIds[i] = id.intValue();
@@ -987,7 +1163,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		
 		ICursor []cursors = new ICursor[count];
 		for (int i = 0; i < count; ++i) {
-			// ȴִ
+			// 等待任务执行完毕
 			jobs[i].join();
 			Integer id = (Integer)jobs[i].getResult();
 			cursors[i] = new RemoteCursor(cluster.getHost(i), cluster.getPort(i), id.intValue());//, ctx);
@@ -1011,15 +1187,15 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 			}
 		}
 
-		// Խжη
+		// 对结果集进行二次分组
 		MergesCursor mc = new MergesCursor(cursors, exps2, ctx);
 		return new GroupmCursor(mc, exps2, names, calcExps2, calcNames, ctx);
 	}
 
 	/**
-	 * ڵִα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行游标外存分组运算
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeGroupx(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -1062,7 +1238,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 				RemoteCursorProxy rcp = new RemoteCursorProxy(result);
 				return new Response(new Integer(rcp.getProxyID()));
 			} else {
-				// @cֻ䲻ٹ鲢سɼȺα̳꣬зֲʽ
+				// @c：分机结果间不再归并，返回成集群游标，继承分布方式
 				IProxy proxy = new CursorProxy(result, cursor.getUnit());
 				rm.addProxy(proxy);
 				return new Response(new Integer(proxy.getProxyId()));
@@ -1075,12 +1251,12 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ԼȺαִ
-	 * @param exps ʽ
-	 * @param ctx 
-	 * @param capacity ڴܹļ¼ûԶһ
-	 * @param opt ѡ
-	 * @return źα
+	 * 对集群游标执行外存排序
+	 * @param exps 排序表达式数组
+	 * @param ctx 计算上下文
+	 * @param capacity 内存中能够保存的记录数，如果没有设置则自动估算一个
+	 * @param opt 选项
+	 * @return 排好序的游标
 	 */
 	public ICursor sortx(Expression[] exps, Context ctx, int capacity, String opt) {
 		Cluster cluster = getCluster();
@@ -1110,7 +1286,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		
 		ICursor []cursors = new ICursor[count];
 		for (int i = 0; i < count; ++i) {
-			// ȴִ
+			// 等待任务执行完毕
 			jobs[i].join();
 			Integer id = (Integer)jobs[i].getResult();
 			cursors[i] = new RemoteCursor(cluster.getHost(i), cluster.getPort(i), id.intValue());//, ctx);
@@ -1120,9 +1296,9 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 
 	/**
-	 * ڵִα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行游标外存排序
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeSortx(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -1156,7 +1332,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 		}
 	}
 	
-	// ȡȺαÿڵӦάֶεСֵʼֵdimCountС1ȡάֶε
+	// 取集群游标每个节点机相应的维字段的最小值，即起始值，dimCount小于1则取所有维字段的
 	Object[][] getMinValues(int dimCount) {
 		int count = cluster.getUnitCount();
 		Object [][]minValues = new Object[count][];
@@ -1180,9 +1356,9 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ڵִȡαάֶεСֵ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行取游标维字段的最小值
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeGetMinValues(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -1241,13 +1417,13 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ԼȺαӣαڸڵֲֻͬڵӣȻϲ
-	 * @param cursors Ⱥα
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return Ⱥα
+	 * 对集群游标做连接，游标在各节点机上同步分布，只需节点机各自做连接，然后合并关联结果即可
+	 * @param cursors 集群游标数组
+	 * @param exps 关联字段表达式数组
+	 * @param names 结果集字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 集群游标
 	 */
 	public static ClusterCursor joinx(ClusterCursor []cursors, Expression[][] exps, String []names, String opt, Context ctx) {
 		int csCount = cursors.length;
@@ -1308,9 +1484,9 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ڵִжα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行对游标做连接
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeJoinx(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -1329,7 +1505,7 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 			
 			ICursor join;
 			if (expStrs == null) {
-				// @pλ
+				// @p按位置做连接
 				for (int i = 0; i < csCount; ++i) {
 					CursorProxy cursor = (CursorProxy)rm.getProxy(cursorProxyIds[i]);
 					cursors[i] = cursor.getCursor();
@@ -1363,16 +1539,16 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ·αӿڣȡ·
-	 * @return int ·
+	 * 多路游标接口，取路数
+	 * @return int 路数
 	 */
 	public int getPathCount() {
 		return cursorProxyIds.length;
 	}
 	
 	/**
-	 * ȺαԶα鷵
-	 * @return Զα
+	 * 集群游标变成远程游标数组返回
+	 * @return 远程游标数组
 	 */
 	public ICursor[] getParallelCursors() {
 		Cluster cluster = getCluster();
@@ -1399,9 +1575,9 @@ public class ClusterCursor extends ICursor implements IClusterObject, IMultipath
 	}
 	
 	/**
-	 * ڵִȡԶα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行取远程游标
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeGetParallelCursors(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
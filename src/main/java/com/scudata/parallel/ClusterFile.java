@@ -18,28 +18,28 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.resources.ParallelMessage;
 
 /**
- * Ⱥļ
+ * 集群文件
  * @author RunQian
  *
  */
 public class ClusterFile implements IClusterObject {
-	private Cluster cluster; // ڵϢ
-	private String fileName; // ļַļ飨ַ飩
-	private String opt; // ѡ
+	private Cluster cluster; // 节点机信息
+	private String fileName; // 文件名（字符串）或者文件名数组（字符串数组）
+	private String opt; // 选项
 	
-	private PartitionFile []pfs; // ÿӦĽڵ
-	private boolean isDistributedFile = true; // trueֲļfalseдļ
+	private PartitionFile []pfs; // 每个分区对应的节点机
+	private boolean isDistributedFile = true; // true：分布文件，false：复写文件
 	
 	private ClusterFile() {
 	}
 		
 	/**
-	 * Զļ
-	 * @param host ڵIPַ
-	 * @param port ڵ˿
-	 * @param fileName ļ
-	 * @param part 
-	 * @param ctx 
+	 * 用于远程文件产生组表
+	 * @param host 节点机IP地址
+	 * @param port 节点机端口
+	 * @param fileName 文件名
+	 * @param part 分区
+	 * @param ctx 计算上下文
 	 */
 	public ClusterFile(String host, int port, String fileName, int part, Context ctx) {
 		cluster = new Cluster(new String[]{host}, new int[]{port}, ctx);
@@ -53,11 +53,11 @@ public class ClusterFile implements IClusterObject {
 	}
 
 	/**
-	 * ָȺļֲͬļȺļ
-	 * @param clusterFile ռȺļ
-	 * @param fileName ļ
-	 * @param parts 飬ʡòյļȺļķ
-	 * @param opt ѡ
+	 * 构建和指定集群文件同分布的集群文件
+	 * @param clusterFile 参照集群文件
+	 * @param fileName 文件名
+	 * @param parts 分区数组，省略则用参照的集群文件的分区
+	 * @param opt 选项
 	 */
 	public ClusterFile(ClusterFile clusterFile, String fileName, int []parts, String opt) {
 		this.fileName = fileName;
@@ -100,11 +100,11 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * ӸĽڵбѡֱָļĽڵȺļ
-	 * @param cluster ڵϢ
-	 * @param fileName ļ
-	 * @param parts 
-	 * @param opt ѡ
+	 * 从给出的节点机列表中选出含有指定分表文件的节点机，创建集群文件
+	 * @param cluster 节点机信息
+	 * @param fileName 文件名
+	 * @param parts 分区数组
+	 * @param opt 选项
 	 */
 	public ClusterFile(Cluster cluster, String fileName, int []parts, String opt) {
 		this.fileName = fileName;
@@ -117,7 +117,7 @@ public class ClusterFile implements IClusterObject {
 		int pcount = parts.length;
 		pfs = new PartitionFile[pcount];
 
-		// ȺдļzhsһһӦ
+		// 集群可写入文件，z和hs一一对应
 		if (opt != null && opt.indexOf('w') != -1) {
 			if (hcount != pcount) {
 				MessageManager mm = EngineMessage.get();
@@ -132,7 +132,7 @@ public class ClusterFile implements IClusterObject {
 			return;
 		}
 		
-		// гÿЩڵ
+		// 列出每个分区都有哪些节点机有
 		List<IntArrayList> hostList = new ArrayList<IntArrayList>();
 		for (int i = 0; i < hcount; ++i) {
 			try {
@@ -145,11 +145,11 @@ public class ClusterFile implements IClusterObject {
 					hostList.get(p).addInt(i);
 				}
 			} catch (Exception e) {
-				// 쳣ʱʹô˽ڵѭ
+				// 有异常发生时不再使用此节点机，继续循环
 			}
 		}
 		
-		// ÿѡһڵƽ
+		// 每个分区选择一个节点机，平均分配
 		int []weights = new int[hcount];
 		String []useHosts = new String[pcount];
 		int []usePorts = new int[pcount];
@@ -186,11 +186,11 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * ӸĽڵбѡֱָļĽڵȺļ
-	 * @param cluster ڵϢ
-	 * @param fileName ļ
-	 * @param parts л
-	 * @param opt ѡ
+	 * 从给出的节点机列表中选出含有指定分表文件的节点机，创建集群文件
+	 * @param cluster 节点机信息
+	 * @param fileName 文件名
+	 * @param parts 分区数列或二层数列
+	 * @param opt 选项
 	 */
 	public ClusterFile(Cluster cluster, String fileName, Sequence partSeq, String opt) {
 		this.fileName = fileName;
@@ -198,9 +198,9 @@ public class ClusterFile implements IClusterObject {
 		isDistributedFile = true;
 		int pcount = partSeq.length();
 		
-		// ֱǶУʱÿڵһÿԱĳԱڷֲͬһֻ
+		// 分表可以是二层数列，此时每个节点机将会产生一个复组表，每个成员的成员必须在分布在同一个分机上
 		int [][]partArrays = new int[pcount][];
-		int []firstParts = new int[pcount]; // ȡе׷ֱ飬
+		int []firstParts = new int[pcount]; // 取二层数列的首分表号组成数组，
 		
 		for (int i = 1; i <= pcount; ++i) {
 			Object obj = partSeq.getMem(i);
@@ -228,7 +228,7 @@ public class ClusterFile implements IClusterObject {
 		int hcount = hosts.length;
 		pfs = new PartitionFile[pcount];
 
-		// ȺдļzhsһһӦ
+		// 集群可写入文件，z和hs一一对应
 		if (opt != null && opt.indexOf('w') != -1) {
 			if (hcount != pcount) {
 				MessageManager mm = EngineMessage.get();
@@ -248,7 +248,7 @@ public class ClusterFile implements IClusterObject {
 			return;
 		}
 		
-		// гÿЩڵ
+		// 列出每个分区都有哪些节点机有
 		List<IntArrayList> hostList = new ArrayList<IntArrayList>();
 		for (int i = 0; i < hcount; ++i) {
 			try {
@@ -261,11 +261,11 @@ public class ClusterFile implements IClusterObject {
 					hostList.get(p).addInt(i);
 				}
 			} catch (Exception e) {
-				// 쳣ʱʹô˽ڵѭ
+				// 有异常发生时不再使用此节点机，继续循环
 			}
 		}
 		
-		// ÿѡһڵƽ
+		// 每个分区选择一个节点机，平均分配
 		int []weights = new int[hcount];
 		String []useHosts = new String[pcount];
 		int []usePorts = new int[pcount];
@@ -302,10 +302,10 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * Ⱥֲдļ
-	 * @param cluster ڵϢ
-	 * @param fileName ļ
-	 * @param opt ѡwֲдļ
+	 * 构建集群分布写文件
+	 * @param cluster 节点机信息
+	 * @param fileName 文件名
+	 * @param opt 选项，w：创建分布写文件
 	 */
 	public ClusterFile(Cluster cluster, String fileName, String opt) {
 		this.cluster = cluster;
@@ -324,9 +324,9 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * ָļ뵱ǰȺļֲͬļȺļ
-	 * @param pathName ļ
-	 * @return Ⱥļ
+	 * 由指定文件名创建与当前集群文件同分布的集群文件
+	 * @param pathName 文件名
+	 * @return 集群文件
 	 */
 	public ClusterFile newFile(String pathName) {
 		ClusterFile clusterFile = new ClusterFile();
@@ -346,15 +346,15 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * ǷǷֲļ
-	 * @return trueֲļfalseдļ
+	 * 返回是否是分布文件
+	 * @return true：分布文件，false：复写文件
 	 */
 	public boolean isDistributedFile() {
 		return isDistributedFile;
 	}
 	
 	/**
-	 * ȡڵ
+	 * 取节点机数
 	 * @return
 	 */
 	public int getUnitCount() {
@@ -362,20 +362,20 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * ȡȺļӦÿڵķֱļ
+	 * 取集群文件对应的每个节点机的分表文件
 	 * @return
 	 */
 	public PartitionFile[] getPartitionFiles() {
 		return pfs;
 	}
 	
-	//ȡֻ
+	//根据序号取分机
 	public String getHost(int unit) {
 		return cluster.getHost(unit);
 	}
 	
 	/**
-	 * ȡָڵĶ˿
+	 * 取指定节点机的端口
 	 * @param unit
 	 * @return
 	 */
@@ -383,13 +383,13 @@ public class ClusterFile implements IClusterObject {
 		return cluster.getPort(unit);
 	}
 	
-	// ļַļ飨ַ飩
+	// 文件名（字符串）或者文件名数组（字符串数组）
 	public String getFileName() {
 		return fileName;
 	}
 	
 	/**
-	 * ȡѡ
+	 * 取选项
 	 * @return
 	 */
 	public String getOption() {
@@ -397,7 +397,7 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * ȡ
+	 * 取计算上下文
 	 * @return
 	 */
 	public Context getContext() {
@@ -405,7 +405,7 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * ȡռʶ
+	 * 取任务空间标识
 	 * @return
 	 */
 	public String getJobSpaceId() {
@@ -413,15 +413,15 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * ȡȺڵ
+	 * 取集群节点机
 	 */
 	public Cluster getCluster() {
 		return cluster;
 	}
 	
 	/**
-	 * ڼļļȺα
-	 * @param fields Ҫȡֶ
+	 * 产生基于集文件的集群游标
+	 * @param fields 要读取的字段
 	 * @param opt
 	 * @return
 	 */
@@ -444,17 +444,17 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * Ⱥ
-	 * @param colNames ֶ
-	 * @param serialBytesLen źżֶγ
-	 * @param segmentCol ֶֶ
-	 * @param serialLen ֶֶźţָõźų
-	 * @param writePsw д
-	 * @param readPsw 
-	 * @param distribute ʽ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return Ⱥ
+	 * 创建集群组表
+	 * @param colNames 字段名数组
+	 * @param serialBytesLen 排号键字段长度数组
+	 * @param segmentCol 分段字段
+	 * @param serialLen 如果分段字段是排号，则指定采用的排号长度
+	 * @param writePsw 写密码
+	 * @param readPsw 读密码
+	 * @param distribute 分区表达式
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 集群组表
 	 */
 	public ClusterPhyTable createGroupTable(String []colNames, Expression distribute, String opt, Context ctx) {
 		int count = pfs.length;
@@ -471,9 +471,9 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * 
-	 * @param ctx 
-	 * @return Ⱥ
+	 * 打开组表
+	 * @param ctx 计算上下文
+	 * @return 集群组表
 	 */
 	public ClusterPhyTable openGroupTable(Context ctx) {
 		int count = pfs.length;
@@ -505,7 +505,7 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * ڽڵִȡֲʽ
+	 * 在节点机上执行取分布表达式
 	 * @param attributes
 	 * @return
 	 */
@@ -528,11 +528,11 @@ public class ClusterFile implements IClusterObject {
 	}
 	
 	/**
-	 * 
-	 * @param file Ӧļʡ򸲸Դļ
-	 * @param option ѡ
-	 * @param distribute ·ֲʽ
-	 * @return 
+	 * 整理组表
+	 * @param file 新组表对应的文件，省略则覆盖源文件
+	 * @param option 选项
+	 * @param distribute 新分布表达式
+	 * @return 结果序列
 	 */
 	public Sequence resetGroupTable(String file, String option, String distribute) {
 		if (!isDistributedFile()) {
@@ -43,7 +43,7 @@ import com.scudata.util.HashUtil;
 import com.scudata.util.Variant;
 
 /**
- * Ⱥڱ
+ * 集群内表
  * @author RunQian
  *
  */
@@ -52,17 +52,17 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 	
 	private Cluster cluster;
 	
-	// Ҫڽڵڡڵ
+	// 数据要求按主键在节点机内、节点机间有序
 	private RemoteMemoryTable []tables;
-	private boolean isDistributed; // Ƿֲڱֲļ߷ֶΪֲڱ
+	private boolean isDistributed; // 是否分布内表，分布文件或者分段则为分布内表
 	
-	private Expression distribute; // ֲʽΪ
-	private String []sortedColNames; // ֶ
-	private DataStruct distDs; // ֲʱõıʽ
+	private Expression distribute; // 分布表达式，可以为空
+	private String []sortedColNames; // 主键或排序字段
+	private DataStruct distDs; // 计算分布时用的表达式
 	
-	private RemoteMemoryTable []sortedTables; // 
-	private int partCount; // ǰڱ
-	private int []partIndex; // ÿӦԶڱ
+	private RemoteMemoryTable []sortedTables; // 按照主键或分区排序
+	private int partCount; // 当前内表包含的最大分区数
+	private int []partIndex; // 每个分区对应的远程内表的索引
 	
 	public ClusterMemoryTable() {
 	}
@@ -73,7 +73,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 		this.isDistributed = isDistributed;
 	}
 	
-	// άswitchjoinʱȶԽڵֵ
+	// 当维表被switch或join时，先对节点机按分区或主键值排序
 	private void prepareFind(Context ctx) {
 		if (sortedTables != null) {
 			return;
@@ -101,7 +101,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 		System.arraycopy(tables, 0, sortedTables, 0, count);
 		
 		if (distribute == null) {
-			// ֵ
+			// 按主键值排序
 			Comparator<RemoteMemoryTable> cmp = new Comparator<RemoteMemoryTable>() {
 				public int compare(RemoteMemoryTable o1, RemoteMemoryTable o2) {
 					return Variant.compare(o1.getStartKeyValue(), o2.getStartKeyValue());
@@ -110,7 +110,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 			
 			Arrays.sort(sortedTables, cmp);
 		} else {
-			// 
+			// 按分区排序
 			Comparator<RemoteMemoryTable> cmp = new Comparator<RemoteMemoryTable>() {
 				public int compare(RemoteMemoryTable o1, RemoteMemoryTable o2) {
 					return o1.getPart() <= o2.getPart() ? -1 : 1;
@@ -128,7 +128,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 				partIndex[sortedTables[i].getPart()] = i;
 			}
 
-			// ɼõݽṹ
+			// 生成计算分区用的数据结构
 			if (sortedColNames != null) {
 				distDs = new DataStruct(sortedColNames);
 			} else {
@@ -176,7 +176,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 		return ids;
 	}
 	
-	// ȡȺڱڵǰڵ϶ӦڱproxyId
+	// 取集群内表在当前节点机上对应的内表的proxyId
 	public int getCurrentClusterProxyId() {
 		HostManager hm = HostManager.instance();
 		String host = hm.getHost();
@@ -225,7 +225,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 	
 	/**
 	 * k.row(T)
-	 * @param key ҵֶεֵ
+	 * @param key 待查找的名字字段的值
 	 * @return
 	 */
 	public BaseRecord getRow(Object key) {
@@ -245,7 +245,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 				command.setAttribute("key", key);
 				Response response = client.send(command);
 				r = (BaseRecord)response.checkResult();
-				if (r != null) break;//ֻҪҵ˾ͷ
+				if (r != null) break;//只要找到了就返回
 			} finally {
 				client.close();
 			}
@@ -271,7 +271,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 		}
 	}
 		
-	//ĳֻûгɹδ
+	//如果有某个分机没有成功创建则如何处理？
 	public boolean createIndex(Integer capacity, String opt) {
 		Cluster cluster = this.cluster;
 		int count = cluster.getUnitCount();
@@ -500,9 +500,9 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 			ICursor cursor;
 			int len = table.length();
 			int start = 1;
-			int end = len + 1; // 
+			int end = len + 1; // 不包含
 			
-			// ڵз
+			// 节点机间进行切分
 			if (isSeg) {
 				int blockSize = len / unitCount;
 				start = blockSize * unit + 1;
@@ -518,7 +518,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 				
 				len = end - start;
 				if (segCount > 1 && segCount < len) {
-					// ڵϲ·α
+					// 节点机上产生多路游标
 					int blockSize = len / segCount;
 					ICursor []cursors = new ICursor[segCount];
 					for (int i = 1; i <= segCount; ++i) {
@@ -584,7 +584,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 			tables[i] = (RemoteMemoryTable)response.checkResult();
 		}
 
-		// ¼ֵͬΪǷֲ
+		// 如果首条记录的主键值不同则认为是分布的
 		Object keyValue1 = tables[0].getStartKeyValue();
 		Object keyValue2 = tables[1].getStartKeyValue();
 		boolean b = count > 1 && !Variant.isEquals(keyValue1, keyValue2);
@@ -596,7 +596,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 		String varName = (String)attributes.get("varName");
 		Integer unit = (Integer)attributes.get("unit");
 		
-		// varNameʽ㣬ӦΪ
+		// 把varName当表达式计算，结果应该为排列
 		JobSpace js = JobSpaceManager.getSpace(jobSpaceID);
 		Context ctx = new Context();
 		ctx.setJobSpace(js);
@@ -632,7 +632,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 		}
 	}
 
-	// ȡ
+	// 取主键个数
 	private int getKeyCount() {
 		return tables[0].getKeyCount();
 	}
@@ -760,9 +760,9 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 	}
 	
 	/**
-	 * ֵȡ¼
-	 * @param keySeq ֵ
-	 * @param newExps صļֶαʽ򷵻Դ¼
+	 * 按主键值取记录
+	 * @param keySeq 主键值序列
+	 * @param newExps 返回的计算字段表达式，空则返回源记录
 	 * @param newNames
 	 * @param ctx
 	 * @return
@@ -832,7 +832,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 			}
 		}
 
-		// нз
+		// 对主键序列进行分组
 		Sequence []seqs = group(ids, ctx);
 		
 		int gcount = seqs.length;
@@ -853,7 +853,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 
 		Sequence []tables = getRows(keySeqs, newExps, newNames);
 
-		// ѷصtablesйϲͬһtable
+		// 把返回的tables与主键序列关联起来，并合并到同一个table上
 		//DataStruct ds = new DataStruct(newNames);
 		for (int g = 0; g < gcount; ++g) {
 			Sequence seq = seqs[g];
@@ -891,12 +891,12 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 		return result;
 	}
 	
-	// аڵз
+	// 对主键序列按节点机进行分组
 	private Sequence[] group(Sequence result, Context ctx) {
 		RemoteMemoryTable []tables = this.sortedTables;
 		int groupCount = tables.length;
 		
-		// Ƿֲڱֻӵһڵң
+		// 如果不是分布内表只从第一个节点机找？
 		if (!isDistributed) {
 			Sequence []seqs = new Sequence[groupCount];
 			seqs[0] = new Sequence(result);
@@ -965,8 +965,8 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 				}
 			}
 		} else {
-			int partCount = this.partCount; // ǰڱ
-			int []partIndex = this.partIndex; // ÿӦԶڱ
+			int partCount = this.partCount; // 当前内表包含的最大分区数
+			int []partIndex = this.partIndex; // 每个分区对应的远程内表的索引
 			Expression distribute = this.distribute;
 			int keyCount = distDs.getFieldCount();
 			Record r = new Record(distDs);
@@ -1093,7 +1093,7 @@ public class ClusterMemoryTable extends Operable implements IClusterObject, IRes
 		}
 	}
 		
-	// رռȺڱͷŽڵԴ
+	// 关闭集群内表释放节点机资源
 	public void close() {
 		Cluster cluster = this.cluster;
 		int count = cluster.getUnitCount();
@@ -38,7 +38,7 @@ import com.scudata.thread.ThreadPool;
 import com.scudata.util.Variant;
 
 /**
- * Ⱥ
+ * 集群组表
  * @author RunQian
  *
  */
@@ -48,11 +48,11 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	public static final int TYPE_NEWS = 2;
 	public static final int TYPE_DERIVE = 3;
 	private ClusterFile clusterFile;
-	private int[] tmdProxyIds; // ӦĽڵʶ
+	private int[] tmdProxyIds; // 对应的节点机附表代理标识
 	
-	private String []allColNames; // ֶ
-	private String []sortedColNames; // ֶ
-	private Expression distribute; // ֲʽ
+	private String []allColNames; // 所有字段
+	private String []sortedColNames; // 主键或排序字段
+	private Expression distribute; // 分布表达式
 	private Context ctx;
 
 	public ClusterPhyTable(ClusterFile clusterFile, int[] tmdProxyIds, Context ctx) {
@@ -70,17 +70,17 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 
 	/**
-	 * ֶͬμȺα
-	 * @param mcs Ⱥα꣬մαķֶζԵǰαֶͬ
-	 * @param exps ֶαʽ
-	 * @param fields ֶ
-	 * @param filter 
-	 * @param fkNames 
-	 * @param codeExps άʽ
-	 * @param opts ֶνйѡ
-	 * @param opt ѡkmcs׼Ӧ
-	 * @param ctx 
-	 * @return Ⱥα
+	 * 创建同步分段集群游标
+	 * @param mcs 集群游标，按照此游标的分段对当前游标做同步分段
+	 * @param exps 字段表达式数组
+	 * @param fields 字段名数组
+	 * @param filter 过滤条件
+	 * @param fkNames 外键名数组
+	 * @param codeExps 维表表达式数组
+	 * @param opts 关联字段进行关联的选项
+	 * @param opt 选项，k：用mcs的首键对应
+	 * @param ctx 计算上下文
+	 * @return 集群游标
 	 */
 	public ClusterCursor cursor(ClusterCursor mcs, Expression []exps, String []fields, Expression filter, 
 			String []fkNames, Expression []codeExps, String []opts, String opt, Context ctx) {
@@ -160,9 +160,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 
 	/**
-	 * ڵִдͬ·α
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行创建同步多路游标
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeCreateSyncCursor(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -231,16 +231,16 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 		
 	/**
-	 * Ⱥα
-	 * @param exps ֶαʽ
-	 * @param fields ֶ
-	 * @param filter 
-	 * @param fkNames 
-	 * @param codeExps άʽ
-	 * @param opts ֶνйѡ
-	 * @param opt ѡkmcs׼Ӧ
-	 * @param ctx 
-	 * @return Ⱥα
+	 * 创建集群游标
+	 * @param exps 字段表达式数组
+	 * @param fields 字段名数组
+	 * @param filter 过滤条件
+	 * @param fkNames 外键名数组
+	 * @param codeExps 维表表达式数组
+	 * @param opts 关联字段进行关联的选项
+	 * @param opt 选项，k：用mcs的首键对应
+	 * @param ctx 计算上下文
+	 * @return 集群游标
 	 */
 	public ClusterCursor cursor(Expression []exps, String []fields, Expression filter, 
 			String []fkNames, Expression []codeExps, String []opts, int segCount, String opt, Context ctx) {
@@ -248,9 +248,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 		int count = clusterFile.getUnitCount();
 		int[] cursorProxyIds = new int[count];
 		
-		// ֲļzѡʱڵļз
+		// 分布文件并且有z选项时按节点机数对文件进行切分
 		boolean isDistributedFile = clusterFile.isDistributedFile();
-		boolean isSeg = !isDistributedFile; // ĿǰֻзֲļˣҪ֣ʱʶ
+		boolean isSeg = !isDistributedFile; // 目前只有分布文件了，不需要做拆分，暂时保留这个标识
 		
 		String []expStrs = null;
 		if (exps != null) {
@@ -322,9 +322,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 
 	/**
-	 * ڵִдα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行创建游标
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeCreateCursor(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -385,7 +385,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 			
 			ICursor cursor;
 			if (isSeg) {
-				// ڵҪз
+				// 节点机间需要进行切分数据
 				cursor = tableMetaData.cursor(exps, fields, exp, fkNames, codes, opts, unit + 1, unitCount, segCount, ctx);
 			} else {
 				if (segCount > 1) {
@@ -406,11 +406,11 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ֶγɼȺڱ
-	 * @param fields Ҫֶ
-	 * @param filter 
-	 * @param ctx 
-	 * @return Ⱥڱ
+	 * 读出组表字段成集群内表
+	 * @param fields 要读出的字段名数组
+	 * @param filter 过滤条件
+	 * @param ctx 计算上下文
+	 * @return 集群内表
 	 */
 	public ClusterMemoryTable memory(String []fields, Expression filter, String option, Context ctx) {
 		ClusterFile clusterFile = getClusterFile();
@@ -436,7 +436,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 		}
 
 		for (int i = 0; i < count; ++i) {
-			// ȴִ
+			// 等待任务执行完毕
 			jobs[i].join();
 			tables[i] = (RemoteMemoryTable)jobs[i].getResult();
 		}
@@ -448,9 +448,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵִжȡݳڱ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行读取数据成内表
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeMemory(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -503,13 +503,13 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ʹѯ
-	 * @param fields ȡֶ
-	 * @param filter ˱ʽ
-	 * @param iname ֶ
-	 * @param opt 'u'ʱ,filterĹȼ
-	 * @param ctx 
-	 * @return Ⱥα
+	 * 使用索引查询
+	 * @param fields 取出字段
+	 * @param filter 过滤表达式
+	 * @param iname 索引字段
+	 * @param opt 包含'u'时,不调整filter里各条件的过滤优先级
+	 * @param ctx 上下文
+	 * @return 集群游标
 	 */
 	public ClusterCursor icursor(String []fields, Expression filter, String iname, String opt, Context ctx) {
 		ClusterFile clusterFile = getClusterFile();
@@ -549,9 +549,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵִݹˣα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行利用索引进行数据过滤，生成游标
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeICursor(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -580,9 +580,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ȡ
-	 * @param tableName 
-	 * @return Ⱥ
+	 * 取附表
+	 * @param tableName 附表名
+	 * @return 集群组表
 	 */
 	public ClusterPhyTable getTableMetaData(String tableName) {
 		ClusterFile clusterFile = this.clusterFile;
@@ -611,9 +611,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 
 	/**
-	 * ڵȡ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上取附表
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeGetTableMetaData(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String)attributes.get("jobSpaceId");
@@ -736,9 +736,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}*/
 	
 	/**
-	 * ֲʽ׷ݵڵ
-	 * @param cursor α
-	 * @param distribute ֲʽ[1,]֮
+	 * 按分布表达式追加数据到节点机
+	 * @param cursor 数据游标
+	 * @param distribute 分布表达式，返回[1,分区数]之间的整数
 	 * @param ctx
 	 */
 	private void append(ICursor cursor, Expression distribute, Context ctx) {
@@ -813,8 +813,8 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 		int unitCount = cluster.getUnitCount();
 		
 		if (cursor instanceof ClusterCursor) {
-			// tmdProxyIdsClusterCursor.cursorProxyIdsһһӦ
-			// cursorProxyIdӦĽڵڵȡcursorappend
+			// tmdProxyIds和ClusterCursor.cursorProxyIds一一对应
+			// 把cursorProxyId传给相应的节点机，节点机取到cursor做append
 			ClusterCursor cs = (ClusterCursor)cursor;
 			if (!cluster.isEquals(cs.getCluster())) {
 				MessageManager mm = EngineMessage.get();
@@ -837,8 +837,8 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 				}
 			}
 		} else {
-			// Ҫ󸽱Ѿappendݣάֶ
-			// ڵȡ¼άֵcursorݣάֳֵĽڵȻݴ͵ڵappend
+			// 要求附表已经append过数据，并且有维字段且有序
+			// 发命令到节点机取出首条记录的维值，遍历cursor的数据，按照维值划分出所属的节点机，然后把数据传送到节点机进行append
 			Object [][]firstKeyValues = new Object[unitCount][];
 			String []keys = null;
 
@@ -901,9 +901,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵִиα
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行给组表添加游标数据
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeAppendByCSID(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -925,9 +925,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵִȡһ¼άֵ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行取第一条记录的维值
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeGetFirstKeyValue(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -946,7 +946,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 				throw new RQException(mm.getMessage("dw.needClusterCursor"));
 			}
 			
-			// ΪexecuteAppendByDataʱļ
+			// 改为在executeAppendByData创建临时文件
 			//FileObject fo = FileObject.createTempFileObject();
 			//tmd.setTempFile(fo);
 			
@@ -961,9 +961,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 
 	/**
-	 * ڵִи
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行给组表添加排列数据
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeAppendByData(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -978,7 +978,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 
 			Context ctx = ClusterUtil.createContext(js, attributes);
 			if (seq == 0) {
-				// һεôʱļ洫
+				// 第一次调用创建临时文件保存传来的数据
 				tmd.createTempFile();
 			}
 			
@@ -1037,9 +1037,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * 
-	 * @param data ҪµݣҪ
-	 * @param opt 'n',дɹ
+	 * 更新数据
+	 * @param data 要更新的数据（必须要主键）
+	 * @param opt 'n',返回写入成功的数据
 	 * @return Sequence
 	 */
 	public Sequence update(Sequence data, String opt) {
@@ -1052,7 +1052,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 		Sequence result = new Sequence();
 		Cluster cluster = getCluster();
 		int unitCount = cluster.getUnitCount();
-		// cursorProxyIdӦĽڵڵupdate
+		// 把cursorProxyId传给相应的节点机，节点机做update
 
 		if (distribute != null) {
 			Sequence []groups = group(data, distribute, ctx, unitCount);
@@ -1138,9 +1138,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵִи
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行更新数据
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeUpdate(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -1163,16 +1163,16 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ɾ
-	 * @param data Ҫµ Ҫ
-	 * @param opt 'n',ɾɹ
+	 * 删除数据
+	 * @param data 要更新的数据 （必须要主键）
+	 * @param opt 'n',返回删除成功的数据
 	 * @return Sequence
 	 */
 	public Sequence delete(Sequence data, String opt) {
 		checkDistributedFile();
 		Cluster cluster = getCluster();
 		int unitCount = cluster.getUnitCount();
-		// cursorProxyIdӦĽڵڵdelete
+		// 把cursorProxyId传给相应的节点机，节点机做delete
 
 		Sequence result = new Sequence();
 		if (data == null || data.length() == 0) {
@@ -1201,9 +1201,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵִɾָ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行删除指定数据
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeDelete(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -1226,8 +1226,8 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ɾ
-	 * @param indexName indexNameΪnullʾɾ
+	 * 删除索引
+	 * @param indexName 索引名，如果indexName为null，表示删除所有
 	 * @return Sequence
 	 */
 	public Sequence deleteIndex(String indexName) {
@@ -1235,7 +1235,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 		checkDistributedFile();
 		Cluster cluster = getCluster();
 		int unitCount = cluster.getUnitCount();
-		// cursorProxyIdӦĽڵڵdelete
+		// 把cursorProxyId传给相应的节点机，节点机做delete
 
 		for (int i = 0; i < unitCount; ++i) {
 			UnitClient client = new UnitClient(cluster.getHost(i), cluster.getPort(i));
@@ -1247,7 +1247,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 				
 				Response response = client.send(command);
 				Object val = response.checkResult();
-				result.add(val);//ÿڵִ
+				result.add(val);//返回每个节点机的执行情况
 			} finally {
 				client.close();
 			}
@@ -1256,9 +1256,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵɾ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上删除索引
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeDeleteIndex(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -1279,12 +1279,12 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 		}
 	}
 	
-	//
+	//建立索引
 	public void createIndex(String I, String []fields, Object obj, String opt, Expression w) {
 		checkDistributedFile();
 		Cluster cluster = getCluster();
 		int unitCount = cluster.getUnitCount();
-		// cursorProxyIdӦĽڵڵindex
+		// 把cursorProxyId传给相应的节点机，节点机做index
 
 		for (int i = 0; i < unitCount; ++i) {
 			UnitClient client = new UnitClient(cluster.getHost(i), cluster.getPort(i));
@@ -1308,9 +1308,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 
 	/**
-	 * ڵִд
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行创建索引
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeCreateIndex(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -1372,8 +1372,8 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * еάֶ
-	 * @return ֶ
+	 * 返回所有的维字段名
+	 * @return 字段名数组
 	 */
 	public String[] getAllSortedColNames() {
 		if (sortedColNames != null) {
@@ -1395,9 +1395,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵִȡάֶ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行取维字段名
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeGetPkey(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -1418,8 +1418,8 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 
 	/**
-	 * ֶ
-	 * @return ֶ
+	 * 返回所有字段名
+	 * @return 字段名数组
 	 */
 	public String[] getAllColNames() {
 		if (allColNames != null) {
@@ -1441,9 +1441,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵִȡάֶ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行取维字段名
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeGetAllColNames(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -1473,10 +1473,10 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	
 	/**
 	 * T.new/news/derive
-	 * @param exps	ѡֶλʽ
-	 * @param fields	ѡֶ
+	 * @param exps	选出字段或表达式
+	 * @param fields	选出字段新名称
 	 * @param cursor2	
-	 * @param csNames cursor2ֶ (Ϊnullʱ)
+	 * @param csNames cursor2的连接字段 (为null时用主键)
 	 * @param type
 	 * @param option
 	 * @param filter
@@ -1494,7 +1494,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 		ClusterMemoryTable cmt = null;
 		
 		if (cursor2 instanceof ClusterCursor) {
-			// cursorProxyIdӦĽڵڵȡcursorappend
+			// 把cursorProxyId传给相应的节点机，节点机取到cursor做append
 			cs = (ClusterCursor)cursor2;
 			if (!cluster.isEquals(cs.getCluster())) {
 				MessageManager mm = EngineMessage.get();
@@ -1549,9 +1549,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵִnews
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行news运算
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeNews(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -1599,7 +1599,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 				for (int i = 0; i < pathCount; ++i) {
 					Expression w = null;
 					if (filter != null) {
-						w = filter.newExpression(ctx); // ֶβжȡʱҪƱʽͬһʽֲ֧
+						w = filter.newExpression(ctx); // 分段并行读取时需要复制表达式，同一个表达式不支持并行运算
 					}
 					ICursor cs = new JoinCursor(tmd.getTableMetaData(), exps, fields, cursors[i], csNames, 
 							type | 0x10, option, w, fkNames, codes, opts, ctx);
@@ -1621,7 +1621,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 		}
 	}
 	
-	// رռȺ
+	// 关闭集群组表
 	public void close() {
 		Cluster cluster = clusterFile.getCluster();
 		int count = cluster.getUnitCount();
@@ -1640,9 +1640,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 
 	/**
-	 * ڵִйر
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行关闭组表
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeCloseGroupTable(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -1661,7 +1661,7 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 		}
 	}
 	
-	//Զcgroups,Ŀǰòȱ
+	//远程cgroups,目前用不到，先保留
 	public Sequence cgroups(String []expNames, String []names, String []newExpNames, String []newNames,
 			Expression w, boolean hasM, int n, String option,  Context ctx) {
 		ClusterFile clusterFile = getClusterFile();
@@ -1700,9 +1700,9 @@ public class ClusterPhyTable implements IClusterObject, IResource {
 	}
 	
 	/**
-	 * ڵִԤ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行利用预汇总立方体计算分组汇总
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeCgroups(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
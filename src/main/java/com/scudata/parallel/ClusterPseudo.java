@@ -32,9 +32,9 @@ public class ClusterPseudo extends IPseudo implements IClusterObject {
 	public static final int TYPE_NEWS = 2;
 	public static final int TYPE_DERIVE = 3;
 	
-	private ClusterFile clusterFile; // ڵϢ
-	private int []pseudoProxyIds; // ӦĽڵʶ
-	private Sequence cache;//importĽcache
+	private ClusterFile clusterFile; // 节点机信息
+	private int []pseudoProxyIds; // 对应的节点机虚表代理标识
+	private Sequence cache;//对import的结果的cache
 	private boolean hasZone;
 	private ClusterPhyTable table;
 	private Context ctx;
@@ -213,7 +213,7 @@ public class ClusterPseudo extends IPseudo implements IClusterObject {
 			}
 		}
 		
-		//ûzoneʱΪǸдڱʱڱα
+		//没有zone时，认为是复写内表，此时用内表返回游标
 		if (!hasZone) {
 			ClusterMemoryTable table = (ClusterMemoryTable) memory(null, null);
 			return table.cursor(exps, names, null, 0, null, getContext());
@@ -423,19 +423,19 @@ public class ClusterPseudo extends IPseudo implements IClusterObject {
 	}
 	
 	/**
-	 * еάֶ
-	 * @return ֶ
+	 * 返回所有的维字段名
+	 * @return 字段名数组
 	 */
 	public String[] getAllSortedColNames() {
 		return table.getAllSortedColNames();
 	}
 	
 	/**
-	 * ֶγɼȺڱ
-	 * @param fields Ҫֶ
-	 * @param filter 
-	 * @param ctx 
-	 * @return Ⱥڱ
+	 * 读出组表字段成集群内表
+	 * @param fields 要读出的字段名数组
+	 * @param filter 过滤条件
+	 * @param ctx 计算上下文
+	 * @return 集群内表
 	 */
 	public Object memory(String option, Context ctx) {
 		Cluster cluster = getCluster();
@@ -456,7 +456,7 @@ public class ClusterPseudo extends IPseudo implements IClusterObject {
 		}
 
 		for (int i = 0; i < count; ++i) {
-			// ȴִ
+			// 等待任务执行完毕
 			jobs[i].join();
 		}
 		
@@ -479,9 +479,9 @@ public class ClusterPseudo extends IPseudo implements IClusterObject {
 	}
 	
 	/**
-	 * ڵִжȡݳڱ
-	 * @param attributes 
-	 * @return Response ĻӦ
+	 * 节点机上执行读取数据成内表
+	 * @param attributes 属性
+	 * @return Response 给主机的回应
 	 */
 	public static Response executeMemory(HashMap<String, Object> attributes) {
 		String jobSpaceID = (String) attributes.get("jobSpaceId");
@@ -20,14 +20,14 @@ import com.scudata.expression.IParam;
 import com.scudata.resources.EngineMessage;
 
 /**
- * Ⱥ
+ * 集群工具类
  * @author RunQian
  *
  */
 final class ClusterUtil {
 	/**
-	 * ڽڵ
-	 * @param js ռ
+	 * 在节点机创建计算上下文
+	 * @param js 任务空间
 	 * @return Context
 	 */
 	public static Context createContext(JobSpace js) {
@@ -37,9 +37,9 @@ final class ClusterUtil {
 	}
 	
 	/**
-	 * ڽڵ
-	 * @param js ռ
-	 * @param attributes  Ĳ
+	 * 在节点机创建计算上下文
+	 * @param js 任务空间
+	 * @param attributes  主机传来的参数
 	 * @return Context
 	 */
 	public static Context createContext(JobSpace js, HashMap<String, Object> attributes) {
@@ -50,7 +50,7 @@ final class ClusterUtil {
 		Context ctx = new Context();
 		ctx.setJobSpace(js);
 		
-		// ȡɱ뵽
+		// 取出参数创建成变量加入到上下文中
 		String []paramNames = (String [])attributes.get("paramNames");
 		if (paramNames != null) {
 			Object []paramValues = (Object [])attributes.get("paramValues");
@@ -63,9 +63,9 @@ final class ClusterUtil {
 		return ctx;
 	}
 	
-	// жϼȺڱǷֻҪȡǰڵϵ
+	// 判断集群内表是否只需要取当前节点机上的数据
 	private static boolean isCurrentOnly(ClusterMemoryTable cmt, String func, String opt) {
-		// Ƿֲڱûcѡʹзֻ
+		// 如果是分布内表并且没有c选项则使用所有分机的数据
 		if (cmt.isDistributed()) {
 			if (opt == null || opt.indexOf('c') == -1) {
 				return false;
@@ -80,11 +80,11 @@ final class ClusterUtil {
 	}
 	
 	/**
-	 * ڽڵģȺڱӦunitӦڱ
-	 * @param js ռ
-	 * @param attributes Ĳ
-	 * @param func ô˷ĺ
-	 * @param opt ѡ
+	 * 在节点机创建计算上下文，集群内表变成相应unit对应的内表
+	 * @param js 任务空间
+	 * @param attributes 主机传来的参数
+	 * @param func 调用此方法的函数名
+	 * @param opt 选项
 	 * @return Context
 	 */
 	public static Context createContext(JobSpace js, HashMap<String, Object> attributes, String func, String opt) {
@@ -95,7 +95,7 @@ final class ClusterUtil {
 		Context ctx = new Context();
 		ctx.setJobSpace(js);
 		
-		// ȡɱ뵽
+		// 取出参数创建成变量加入到上下文中
 		String []paramNames = (String [])attributes.get("paramNames");
 		if (paramNames != null) {
 			Object []paramValues = (Object [])attributes.get("paramValues");
@@ -105,7 +105,7 @@ final class ClusterUtil {
 				if (val instanceof ClusterMemoryTable) {
 					ClusterMemoryTable cmt = (ClusterMemoryTable)val;
 					if (isCurrentOnly(cmt, func, opt)) {
-						// дڱcѡʱֻȡǰڵ϶ӦĲ
+						// 复写内表或者有c选项时只取当前节点机上对应的部分
 						int id = cmt.getCurrentClusterProxyId();
 						ResourceManager rm = js.getResourceManager();
 						TableProxy table = (TableProxy)rm.getProxy(id);
@@ -126,10 +126,10 @@ final class ClusterUtil {
 	}
 	
 	/**
-	 * ѱʽõĲõдڵ
-	 * @param command 
-	 * @param exp ʽ
-	 * @param ctx 
+	 * 把表达式中引用到的参数和网格设置到命令中传给节点机
+	 * @param command 命令
+	 * @param exp 表达式
+	 * @param ctx 计算上下文
 	 */
 	public static void setParams(UnitCommand command, Expression exp, Context ctx) {
 		if (exp != null) {
@@ -142,10 +142,10 @@ final class ClusterUtil {
 	}
 	
 	/**
-	 * ѱʽõĲõдڵ
-	 * @param command 
-	 * @param exps ʽ
-	 * @param ctx 
+	 * 把表达式数组中引用到的参数和网格设置到命令中传给节点机
+	 * @param command 命令
+	 * @param exps 表达式数组
+	 * @param ctx 计算上下文
 	 */
 	public static void setParams(UnitCommand command, Expression []exps, Context ctx) {
 		if (exps != null) {
@@ -161,10 +161,10 @@ final class ClusterUtil {
 	}
 	
 	/**
-	 * ѺõĲõдڵ
-	 * @param command 
-	 * @param function 
-	 * @param ctx 
+	 * 把函数中引用到的参数和网格设置到命令中传给节点机
+	 * @param command 命令
+	 * @param function 函数
+	 * @param ctx 计算上下文
 	 */
 	public static void setParams(UnitCommand command, Function function, Context ctx) {
 		IParam param = function.getParam();
@@ -204,12 +204,12 @@ final class ClusterUtil {
 	}
 	
 	/**
-	 * гڵЩֱļ
-	 * @param host ڵIPַ
-	 * @param port ڵĶ˿
-	 * @param fileName ļ·
-	 * @param parts Ҫҵķֱ
-	 * @return ڵϰķֱ
+	 * 列出节点机上有哪些分表文件
+	 * @param host 节点机的IP地址
+	 * @param port 节点机的端口
+	 * @param fileName 文件路径名
+	 * @param parts 要查找的分表
+	 * @return 节点机上包含的分表
 	 */
 	public static int[] listFileParts(String host, int port, String fileName, int []parts) {
 		UnitClient client = new UnitClient(host, port);
@@ -225,7 +225,7 @@ final class ClusterUtil {
 	}
 
 	/**
-	 * ڵִгڵЩֱļ
+	 * 节点机上执行列出节点机上有哪些分表文件命令
 	 * @param attributes
 	 * @return
 	 */
@@ -1,21 +1,36 @@
 package com.scudata.parallel;
 
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import com.scudata.common.RQException;
+import com.scudata.dm.Sequence;
+import com.scudata.dm.cursor.ConjxCursor;
 import com.scudata.dm.cursor.ICursor;
+import com.scudata.dm.cursor.MemoryCursor;
 
 /**
- * α
+ * 游标代理
  * 
  * @author Joancy
  *
  */
 public class CursorProxy extends IProxy {
 	private ICursor cursor;
-	private int unit; // ڵţ0ʼ
+	private int unit; // 节点机序号，从0开始计数
+	
+	// 预取，主机按窗口连续请求数据时，节点机在后台线程中提前取数放入有界队列
+	private static final Object END = new Object(); // 游标取数结束的标志
+	private ArrayBlockingQueue<Object> readyQueue; // 已取出的批次，元素是序列、异常或END
+	private Thread prefetchThread; // 后台取数线程
+	private volatile boolean isStopPrefetch; // 是否停止后台取数
+	private Sequence rest; // 上次请求没取完的批次
+	private boolean isEnd; // 后台取数是否已经结束
 		
 	/**
-	 * α
-	 * @param cursor α
-	 * @param unit ڵ
+	 * 构造游标代理
+	 * @param cursor 游标
+	 * @param unit 节点机序号
 	 */
 	public CursorProxy(ICursor cursor, int unit) {
 		this.cursor = cursor;
@@ -23,41 +38,201 @@ public class CursorProxy extends IProxy {
 	}
 	
 	/**
-	 * رα
+	 * 关闭游标代理
 	 */
-	public void close() {
+	public synchronized void close() {
+		stopPrefetch();
 		if (cursor != null) {
 			cursor.close();
 		}
 	}
 	
 	/**
-	 * ȡα
-	 * @return α
+	 * 获取游标对象
+	 * @return 游标
 	 */
-	public ICursor getCursor() {
+	public synchronized ICursor getCursor() {
+		stopPrefetch();
 		return cursor;
 	}
 	
 	/**
-	 * α
-	 * @param cursor α
+	 * 取预取好的数据，第一次调用时启动后台线程按n条一批提前取数，最多提前取window批
+	 * @param n 数量
+	 * @param window 提前取数的批数
+	 * @return 序列，取完返回空
+	 */
+	public synchronized Sequence fetchAhead(int n, int window) {
+		if (cursor == null || n < 1) {
+			return null;
+		}
+		
+		if (prefetchThread == null && !isEnd) {
+			startPrefetch(n, window);
+		}
+		
+		Sequence result = null;
+		int size = 0;
+		while (size < n) {
+			Sequence seq = rest;
+			rest = null;
+			if (seq == null) {
+				if (isEnd) {
+					break;
+				}
+				
+				Object obj;
+				try {
+					obj = readyQueue.take();
+				} catch (InterruptedException e) {
+					throw new RQException(e);
+				}
+				
+				if (obj == END) {
+					isEnd = true;
+					prefetchThread = null;
+					break;
+				} else if (obj instanceof RuntimeException) {
+					isEnd = true;
+					prefetchThread = null;
+					throw (RuntimeException)obj;
+				}
+				
+				seq = (Sequence)obj;
+			}
+			
+			int len = seq.length();
+			if (size + len > n) {
+				rest = seq.split(n - size + 1);
+				len = n - size;
+			}
+			
+			if (result == null) {
+				result = seq;
+			} else {
+				result = ICursor.append(result, seq);
+			}
+			
+			size += len;
+		}
+		
+		return result;
+	}
+	
+	private void startPrefetch(final int n, int window) {
+		final ArrayBlockingQueue<Object> readyQueue = new ArrayBlockingQueue<Object>(window < 1 ? 1 : window);
+		final ICursor cursor = this.cursor;
+		this.readyQueue = readyQueue;
+		isStopPrefetch = false;
+		
+		prefetchThread = new Thread("CursorProxy[prefetch]:" + getProxyId()) {
+			public void run() {
+				try {
+					while (!isStopPrefetch) {
+						Sequence seq = cursor.fetch(n);
+						if (seq == null || seq.length() == 0) {
+							readyQueue.put(END);
+							break;
+						}
+						
+						readyQueue.put(seq);
+					}
+				} catch (InterruptedException e) {
+				} catch (Throwable e) {
+					RuntimeException re = e instanceof RuntimeException ? 
+							(RuntimeException)e : new RQException(e.getMessage(), e);
+					try {
+						readyQueue.put(re);
+					} catch (InterruptedException ie) {
+					}
+				}
+			}
+		};
+		
+		prefetchThread.setDaemon(true);
+		prefetchThread.start();
+	}
+	
+	// 停止后台取数，已经取出还没用到的数据放回游标前面，之后可以正常对游标做其它操作
+	private void stopPrefetch() {
+		Thread thread = prefetchThread;
+		ArrayList<Sequence> buffers = new ArrayList<Sequence>();
+		if (rest != null) {
+			buffers.add(rest);
+			rest = null;
+		}
+		
+		if (thread != null) {
+			isStopPrefetch = true;
+			prefetchThread = null;
+			
+			// 队列满时取数线程会等待，边取出队列中的数据边等线程结束
+			boolean isInterrupted = false;
+			while (thread.isAlive()) {
+				drainQueue(buffers);
+				try {
+					thread.join(10);
+				} catch (InterruptedException e) {
+					isInterrupted = true;
+				}
+			}
+			
+			// 线程在上次取队列之后结束前可能又放入了数据，结束后再取一遍
+			drainQueue(buffers);
+			if (isInterrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		
+		readyQueue = null;
+		if (buffers.size() > 0) {
+			Sequence seq = buffers.get(0);
+			for (int i = 1, size = buffers.size(); i < size; ++i) {
+				seq = ICursor.append(seq, buffers.get(i));
+			}
+			
+			MemoryCursor mc = new MemoryCursor(seq);
+			if (isEnd) {
+				cursor = mc;
+			} else {
+				cursor = new ConjxCursor(new ICursor[] {mc, cursor});
+			}
+		}
+		
+		isEnd = false;
+	}
+	
+	// 取出队列中已有的数据
+	private void drainQueue(ArrayList<Sequence> buffers) {
+		Object obj;
+		while ((obj = readyQueue.poll()) != null) {
+			if (obj instanceof Sequence) {
+				buffers.add((Sequence)obj);
+			} else if (obj == END) {
+				isEnd = true;
+			}
+		}
+	}
+	
+	/**
+	 * 设置游标对象
+	 * @param cursor 游标
 	 */
 	void setCursor(ICursor cursor) {
 		this.cursor = cursor;
 	}
 	
 	/**
-	 * ȡֻ
-	 * @return 
+	 * 获取分机序号
+	 * @return 序号
 	 */
 	public int getUnit() {
 		return unit;
 	}
 	
 	/**
-	 * ÷ֻ
-	 * @param unit 
+	 * 设置分机序号
+	 * @param unit 序号
 	 */
 	void setUnit(int unit) {
 		this.unit = unit;
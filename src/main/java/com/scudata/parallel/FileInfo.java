@@ -6,18 +6,18 @@ import java.io.Serializable;
 import com.scudata.dm.Env;
 
 /**
- * ڴ洢ĳ·µļϢ
+ * 用于存储相对于某个路径下的文件信息
  * @author Joancy
  *
  */
 public class FileInfo implements Serializable,Comparable<Object> {
 	private static final long serialVersionUID = 3777477339763658303L;
 
-//	public Integer partition;//Ϊ-1ʱʾfileNameEnv.getMainPath()
-	public String fileName; // ··/ָ
-	private boolean isDir; // ǷĿ¼
+//	public Integer partition;//当分区为-1时，表示fileName相对于Env.getMainPath()
+	public String fileName; // 相对路径名，路径间用/分隔
+	private boolean isDir; // 是否目录
 	
-	private boolean isDirEmpty = false; // Ŀ¼ǰĿ¼ǷΪ
+	private boolean isDirEmpty = false; // 如果是目录，当前的目录是否为空
 
 	private long lastModified = -1;
 
@@ -52,10 +52,10 @@ public class FileInfo implements Serializable,Comparable<Object> {
 		return f.isAbsolute();
 	}
 /**
- * ļƵĿ·
- * @param parent ļڱĸ·
- * @return Ŀ·parentǾ·Ŀʹͬľ·
- * parent·Ŀ·Ϊȥ˱··
+ * 返回文件复制到目标机器的路径
+ * @param parent 文件在本机的父路径
+ * @return 目标机器的路径，如果parent是绝对路径，则目标机器使用相同的绝对路径
+ * 如果parent是相对路径，则目标机器路径亦为去掉了本机主路径的相对路径
  */
 	public String getDestPath(String parent){
 		File p = new File(parent);
@@ -4,14 +4,14 @@ import com.scudata.common.MessageManager;
 import com.scudata.resources.ParallelMessage;
 
 /**
- * ֻ
+ * 分机管理器
  * 
  * @author Joancy
  *
  */
 public class HostManager {
 	private static HostManager instance = null;
-	// ִ߳ʱhostᱻֵڷֻŻhost
+	// 本地线程执行时，host不会被赋值。在分机中启动才会有host
 	String host = null;
 	int port;
 	
@@ -24,8 +24,8 @@ public class HostManager {
 	}
 
 	/**
-	 * ֻΨһʵ
-	 * @return ֻ
+	 * 分机管理器的唯一实例
+	 * @return 分机管理器
 	 */
 	public static HostManager instance() {
 		if (instance == null) {
@@ -35,16 +35,16 @@ public class HostManager {
 	}
 
 	/**
-	 * ȡֻip
-	 * @return ipַ
+	 * 获取分机的ip
+	 * @return ip地址
 	 */
 	public String getHost() {
 		return host;
 	}
 
 	/**
-	 * ÷ֻIP
-	 * @param ip ipַ
+	 * 设置分机IP
+	 * @param ip ip地址
 	 */
 	public void setHost(String ip) {
 		host = ip;
@@ -52,16 +52,16 @@ public class HostManager {
 	}
 
 	/**
-	 * ȡֻ˿ں
-	 * @return ˿ں
+	 * 获取分机端口号
+	 * @return 端口号
 	 */
 	public int getPort() {
 		return port;
 	}
 
 	/**
-	 * ÷ֻĶ˿ں
-	 * @param p ˿ں
+	 * 设置分机的端口号
+	 * @param p 端口号
 	 */
 	public void setPort(int p) {
 		port = p;
@@ -69,7 +69,7 @@ public class HostManager {
 	}
 
 	/**
-	 * ȡֻҵ
+	 * 获取分机最大作业数
 	 * @return
 	 */
 	public int getMaxTaskNum() {
@@ -77,15 +77,15 @@ public class HostManager {
 	}
 
 	/**
-	 * ҵĿ
-	 * @param num ҵĿ
+	 * 设置最大作业数目
+	 * @param num 作业数目
 	 */
 	public void setMaxTaskNum(int num) {
 		maxTaskNum = num;
 	}
 
 	/**
-	 * ֻʺҵ
+	 * 分机适合作业数
 	 * @return
 	 */
 	public int getPreferredTaskNum() {
@@ -93,23 +93,23 @@ public class HostManager {
 	}
 
 	/**
-	 * ÷ֻʺҵ
-	 * @param num ʺҵ
+	 * 设置分机的适合作业数
+	 * @param num 适合作业数
 	 */
 	public void setPreferredTaskNum(int num) {
 		preferredTaskNum = num;
 	}
 
 	/**
-	 * ȡǰ
-	 * @return ǰĿ
+	 * 获取当前并发的任务个数
+	 * @return 当前并发任务数目
 	 */
 	public int getCurrentTasks() {
 		return PerfMonitor.getConcurrentTasks();
 	}
 
 	/**
-	 * ʵtoStringϢ
+	 * 实现toString描述信息
 	 */
 	public String toString() {
 		if (host == null) {
@@ -119,8 +119,8 @@ public class HostManager {
 	}
 
 	/**
-	 * Ƿwindowsϵͳ
-	 * @return windowstrue򷵻false
+	 * 是否windows系统
+	 * @return windows返回true，否则返回false
 	 */
 	public static boolean isWindows() {
 		String osName = System.getProperty("os.name");
@@ -1,7 +1,7 @@
 package com.scudata.parallel;
 
 /**
- * Ⱥ
+ * 集群对象
  * @author RunQian
  *
  */
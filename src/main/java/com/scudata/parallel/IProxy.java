@@ -4,7 +4,7 @@ import com.scudata.dm.IResource;
 import com.scudata.server.unit.UnitServer;
 
 /**
- * ӿ
+ * 代理接口
  * @author Joancy
  *
  */
@@ -12,15 +12,15 @@ public abstract class IProxy implements IResource {
 	private int proxyId = UnitServer.nextId();
 	
 	/**
-	 * ȡ
-	 * @return Ψһ
+	 * 取代理编号
+	 * @return 代理唯一号
 	 */
 	public int getProxyId() {
 		return proxyId;
 	}
 	
 	/**
-	 * ô
+	 * 设置代理编号
 	 * @param proxyId
 	 */
 	public void setProxyId(int proxyId) {
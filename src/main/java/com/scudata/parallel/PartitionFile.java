@@ -20,24 +20,24 @@ import com.scudata.dw.PhyTable;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ڵļ
+ * 节点机分区文件
  * @author RunQian
  *
  */
 class PartitionFile {
-	private ClusterFile clusterFile; // ļȺļ
+	private ClusterFile clusterFile; // 所属的集群文件
 	private String host; // IP
-	private int port; // ˿
+	private int port; // 端口
 	
-	//private int partition; // -1ʾֱļȡ
-	private int []parts; // ֱ飬Ϊֱļȡ
+	//private int partition; // 分区，-1表示直接用文件名取
+	private int []parts; // 分表号数组，多个则为复组表，空则直接用文件名取
 		
 	/**
-	 * ڵļ
-	 * @param clusterFile ļȺļ
+	 * 构建节点机分区文件
+	 * @param clusterFile 所属的集群文件
 	 * @param host IP
-	 * @param port ˿
-	 * @param partition 
+	 * @param port 端口
+	 * @param partition 分区
 	 */
 	public PartitionFile(ClusterFile clusterFile, String host, int port, int partition) {
 		this.clusterFile = clusterFile;
@@ -58,7 +58,7 @@ class PartitionFile {
 	}
 	
 	/**
-	 * ƶ
+	 * 复制对象
 	 * @param clusterFile
 	 * @return
 	 */
@@ -68,8 +68,8 @@ class PartitionFile {
 	}
 	
 	/**
-	 * 
-	 * @param colNames ֶ
+	 * 创建组表
+	 * @param colNames 字段名数组
 	 * @param serialBytesLen
 	 * @param segmentCol
 	 * @param serialLen
@@ -103,7 +103,7 @@ class PartitionFile {
 	}
 	
 	/**
-	 * ڽڵִд
+	 * 在节点机上执行创建组表命令
 	 * @param attributes
 	 * @return
 	 */
@@ -161,8 +161,8 @@ class PartitionFile {
 	}
 
 	/**
-	 * 
-	 * @return ڵID
+	 * 打开组表
+	 * @return 节点机组表代理ID
 	 */
 	public int openGroupTable() {
 		UnitClient client = new UnitClient(host, port);
@@ -182,7 +182,7 @@ class PartitionFile {
 	}
 	
 	/**
-	 * ڽڵִд
+	 * 在节点机上执行打开组表命令
 	 * @param attributes
 	 * @return
 	 */
@@ -226,13 +226,13 @@ class PartitionFile {
 	}
 	
 	/**
-	 * Ⱥļα
-	 * @param fields ѡֶ
-	 * @param opt ѡ
-	 * @param segSeq ֶκ
-	 * @param segCount ֶ
-	 * @param unit ڵ
-	 * @return ڵα
+	 * 创建集群集文件游标
+	 * @param fields 选出字段名数组
+	 * @param opt 选项
+	 * @param segSeq 分段号
+	 * @param segCount 分段数
+	 * @param unit 节点机序号
+	 * @return 节点机游标代理号
 	 */
 	public int createBinaryCursor(String []fields, String opt, int segSeq, int segCount, int unit) {
 		UnitClient client = new UnitClient(host, port);
@@ -258,7 +258,7 @@ class PartitionFile {
 	}
 	
 	/**
-	 * ڽڵִдļα
+	 * 在节点机上执行创建集文件游标命令
 	 * @param attributes
 	 * @return
 	 */
@@ -298,11 +298,11 @@ class PartitionFile {
 	}
 	
 	/**
-	 * 
-	 * @param file Ӧļʡ򸲸Դļ
-	 * @param option ѡ
-	 * @param distribute ·ֲʽ
-	 * @return trueɹfalseʧ
+	 * 整理组表
+	 * @param file 新组表对应的文件，省略则覆盖源文件
+	 * @param option 选项
+	 * @param distribute 新分布表达式
+	 * @return true：成功，false：失败
 	 */
 	public boolean resetGroupTable(String file, String option, String distribute) {
 		UnitClient client = new UnitClient(host, port);
@@ -326,7 +326,7 @@ class PartitionFile {
 	}
 	
 	/**
-	 * ڽڵִ
+	 * 在节点机上执行重设组表命令
 	 * @param attributes
 	 * @return
 	 */
@@ -380,7 +380,7 @@ class PartitionFile {
 	}
 
 	/**
-	 * ȡڵIP
+	 * 取节点机IP
 	 * @return String
 	 */
 	public String getHost() {
@@ -388,7 +388,7 @@ class PartitionFile {
 	}
 
 	/**
-	 * ȡڵ˿
+	 * 取节点机端口
 	 * @return int
 	 */
 	public int getPort() {
@@ -396,7 +396,7 @@ class PartitionFile {
 	}
 
 	/**
-	 * ȡ
+	 * 取分区
 	 * @return int
 	 */
 	public int getPartition() {
@@ -86,7 +86,7 @@ public class PartitionManager {
 //				}
 				break;
 			case Request.PARTITION_UPLOAD_CTX:
-				//upload 
+				//upload 组表
 				dstPath = (String) req.getAttr(Request.UPLOAD_DstPath);
 				long lastModified3 = ((Number) req.getAttr(Request.UPLOAD_LastModified)).longValue();
 				Long fileSize = (Long) req.getAttr(Request.UPLOAD_FileSize);
@@ -114,11 +114,11 @@ public class PartitionManager {
 	}
 
 /**
- * гǰ·pathµļϢֻ··
- * @param path ·        ··,  pathΪ
- * @param isListSrc ͬʱгԴļȻгĿĻļȽϣȥĿĻļ
- * ļʱ Դ·ûʱҪĿĻ·ûļʱؿա
- * @return ļϢб
+ * 列出当前机器上路径path下的文件信息，只能是相对于主路径的相对路径
+ * @param path 绝对路径    或者    相对于主路径的相对路径,  path不能为空
+ * @param isListSrc 同步时，先列出源机器的文件；然后列出目的机的文件，两相比较，去掉目的机的冗余文件
+ * 所以列文件时， 对于源机器，给出的路径没有时，需要报错。而对于目的机，给出的路径没有文件时，返回空。
+ * @return 文件信息列表
  */
 	public static List<FileInfo> listPathFiles(String path, boolean isListSrc) {
 		if( path==null ){
@@ -176,10 +176,10 @@ public class PartitionManager {
 	}
 
 	/**
-	 * гroot·£rootrelativePathµļϢ
-	 * @param root ·root·
-	 * @param relativePath root·
-	 * @return ļϢб
+	 * 列出root根路径下，相对于root的relativePath下的所有文件信息
+	 * @param root 绝对路径的root路径
+	 * @param relativePath 相对于root的相对路径
+	 * @return 文件信息列表
 	 */
 	private static List<FileInfo> listRelativePathFiles(String root, String relativePath) {
 		ArrayList<FileInfo> fileInfos = new ArrayList<FileInfo>();
@@ -226,7 +226,7 @@ public class PartitionManager {
 	private static boolean deleteFile(File file) {
 		return deleteFile(file,null);
 	}
-	//оoptionû壬ļʱ ǿyҲûɾ
+	//感觉option没有意义，文件被锁定时， 强制y也没法删除
 	private static boolean deleteFile(File file, String option) {
 		if (!file.isDirectory()){
 			boolean b = file.delete();
@@ -273,10 +273,10 @@ public class PartitionManager {
 	}
 
 	/**
-	 * ·ļѾǾ·ļ
-	 * תΪؾ·
-	 * @param relativeOrAbsolute ԻԵ·
-	 * @return ·
+	 * 将相对于主路径的文件名，或者已经是绝对路径的文件名
+	 * 转换为本地绝对路径
+	 * @param relativeOrAbsolute 相对或绝对的路径名
+	 * @return 绝对路径名
 	 */
 	public static String getAbsolutePath(String relativeOrAbsolute){
 		File f = new File(relativeOrAbsolute);
@@ -293,7 +293,7 @@ public class PartitionManager {
 		if(!f.exists()){
 			return true;
 		}
-		return isY;//ļʱʹyѡǿmove
+		return isY;//文件存在时，使用y选项强制move
 	}
 	
 	private static boolean isNeedUpdate( String dstPath,long lastModified){
@@ -325,13 +325,13 @@ public class PartitionManager {
 				outBuff.write(data);
 				data = (byte[])sd.read();
 			}
-			// ˢ´˻
+			// 刷新此缓冲的输出流
 			outBuff.flush();
 		} finally {
-			// ر
+			// 关闭流
 			if (outBuff != null)
 				outBuff.close();
-			uploadFile.setLastModified(lastModified);//ͬļ޸ʱ
+			uploadFile.setLastModified(lastModified);//同步上载文件的修改时间
 		}
 		Logger.debug("Receive file:"+f.getAbsolutePath()+" OK.");
 
@@ -343,8 +343,8 @@ public class PartitionManager {
 	 * @param sd
 	 * @param lastModified
 	 * @param blockLinkInfo
-	 * @param fileSize Զ̷͹ļС
-	 * @param hasExtFile вļ
+	 * @param fileSize 远程发送过来的文件大小
+	 * @param hasExtFile 有补文件
 	 * @throws Exception
 	 */
 	private static void upload_CTX(String dstPath, SocketData sd, Long lastModified, long[] blockLinkInfo, 
@@ -360,7 +360,7 @@ public class PartitionManager {
 
 		long uploadFileSize = uploadFile.length();
 		if (fileSize < uploadFileSize) {
-			//ڵļ󣬻߸
+			//如果节点机本地文件更大，或者更新
 			uploadFileSize = 0;
 		}
 		
@@ -376,13 +376,13 @@ public class PartitionManager {
 					raf.write(data);
 					data = (byte[])sd.read();
 				}
-				// ˢ´˻
+				// 刷新此缓冲的输出流
 				raf.getChannel().force(false);
 			} finally {
-				// ر
+				// 关闭流
 				if (raf != null)
 					raf.close();
-				uploadFile.setLastModified(lastModified);//ͬļ޸ʱ
+				uploadFile.setLastModified(lastModified);//同步上载文件的修改时间
 			}
 			
 			if (hasExtFile) {
@@ -396,13 +396,13 @@ public class PartitionManager {
 						raf.write(data);
 						data = (byte[])sd.read();
 					}
-					// ˢ´˻
+					// 刷新此缓冲的输出流
 					raf.getChannel().force(false);
 				} finally {
-					// ر
+					// 关闭流
 					if (raf != null)
 						raf.close();
-					uploadFile.setLastModified(extFileLastModified);//ͬļ޸ʱ
+					uploadFile.setLastModified(extFileLastModified);//同步上载文件的修改时间
 				}
 				Logger.debug("Receive file:"+uploadFile.getAbsolutePath()+" OK.");
 			} else {
@@ -453,14 +453,14 @@ public class PartitionManager {
 				}
 				type = (String)sd.read();
 			}
-			// ˢ´˻
+			// 刷新此缓冲的输出流
 			raf.getChannel().force(false);
 		} finally {
-			// ر
+			// 关闭流
 			if (raf != null)
 				raf.close();
 			table.close();
-			uploadFile.setLastModified(lastModified);//ͬļ޸ʱ
+			uploadFile.setLastModified(lastModified);//同步上载文件的修改时间
 		}
 		
 		if (hasExtFile) {
@@ -474,13 +474,13 @@ public class PartitionManager {
 					raf.write(data);
 					data = (byte[])sd.read();
 				}
-				// ˢ´˻
+				// 刷新此缓冲的输出流
 				raf.getChannel().force(false);
 			} finally {
-				// ر
+				// 关闭流
 				if (raf != null)
 					raf.close();
-				uploadFile.setLastModified(extFileLastModified);//ͬļ޸ʱ
+				uploadFile.setLastModified(extFileLastModified);//同步上载文件的修改时间
 			}
 			Logger.debug("Receive file:"+uploadFile.getAbsolutePath()+" OK.");
 		} else {
@@ -507,7 +507,7 @@ public class PartitionManager {
 		long indexPos1 = 0, indexPos2 = 0, index1EndPos = 0;
 		long uploadFileSize = uploadFile.length();
 		if (uploadFileSize > 0) {
-			//ļ
+			//如果文件存在
 			FileInputStream fis = new FileInputStream(uploadFile);
 			byte[] header = RemoteFileProxyManager.read(fis, 1024);
 			BufferReader reader = new BufferReader(null, header, 39, 1024);
@@ -524,7 +524,7 @@ public class PartitionManager {
 		if (blockLinkInfo[0] != indexPos1 
 				|| blockLinkInfo[1] != indexPos2
 				|| blockLinkInfo[2] != index1EndPos
-				|| fileSize < uploadFileSize//ֻļ󣬻߸
+				|| fileSize < uploadFileSize//如果分机的文件更大，或者更新
 				|| 0 == uploadFileSize) {
 			sd.write(new Integer(0));
 			
@@ -537,22 +537,22 @@ public class PartitionManager {
 					outBuff.write(data);
 					data = (byte[])sd.read();
 				}
-				// ˢ´˻
+				// 刷新此缓冲的输出流
 				outBuff.flush();
 			} finally {
-				// ر
+				// 关闭流
 				if (outBuff != null)
 					outBuff.close();
-				uploadFile.setLastModified(lastModified);//ͬļ޸ʱ
+				uploadFile.setLastModified(lastModified);//同步上载文件的修改时间
 			}
 		} else {
-			//ֻͬ
+			//只同步增量部分
 			sd.write(new Integer(1));
 			RandomAccessFile raf = new RandomAccessFile(uploadFile, "rw");
 			raf.setLength(fileSize);
 			
 			try {
-				byte []header = (byte[])sd.read();//ݴһheaderд
+				byte []header = (byte[])sd.read();//暂存一下header，最后写入
 				
 				raf.seek(indexPos2);
 				byte []data = (byte[])sd.read();
@@ -564,13 +564,13 @@ public class PartitionManager {
 				raf.seek(0);
 				raf.write(header);
 				
-				// ˢ´˻
+				// 刷新此缓冲的输出流
 				raf.getChannel().force(false);
 			} finally {
-				// ر
+				// 关闭流
 				if (raf != null)
 					raf.close();
-				uploadFile.setLastModified(lastModified);//ͬļ޸ʱ
+				uploadFile.setLastModified(lastModified);//同步上载文件的修改时间
 			}
 		}
 		Logger.debug("Receive file:" + uploadFile.getAbsolutePath()+" OK.");
@@ -50,9 +50,9 @@ public class PartitionUtil {
 	}
 
 	/**
-	 * ӷֻmcsļfileȱأhs1ֻɶд
-	 * @param mcs ֻ
-	 * @param file ļ
+	 * 从分机序列mcs中找文件file，优先本地，hs大于1只读，否则可读写
+	 * @param mcs 分机组
+	 * @param file 文件名
 	 * @return FileObject
 	 */
 	public static FileObject locate(Machines mcs, String file) {
@@ -60,10 +60,10 @@ public class PartitionUtil {
 	}
 
 /**
- * ӷֻhsļfnȱأhs1ֻɶд
- * @param mcs ֻ
- * @param file ļ
- * @param z ֱ
+ * 从分机序列hs中找文件fn，优先本地，hs大于1只读，否则可读写
+ * @param mcs 分机组
+ * @param file 文件名
+ * @param z 分表区号
  * @return FileObject
  */
 	public static FileObject locate(Machines mcs, String file, Integer z) {
@@ -77,9 +77,9 @@ public class PartitionUtil {
 			int port = mcs.getPort(0);
 			fo = new FileObject(file, host, port);
 			fo.setPartition(z);
-			fo.setRemoteFileWritable();//ָΨһֻʱԶļд
+			fo.setRemoteFileWritable();//仅指定唯一分机时，设置远程文件可写
 			return fo;
-		}else if (fo.isExists()) {//hsʱȱ
+		}else if (fo.isExists()) {//多个hs时，优先本地
 			
 			return fo;
 		}
@@ -116,11 +116,11 @@ public class PartitionUtil {
 	}
 
 	/**
-	 * гֻhost·pathµļϢ
-	 * @param host ֻIP
-	 * @param port ֻ˿ں
-	 * @param path ·
-	 * @return ļϢб
+	 * 列出分机host的路径path下的所有文件信息
+	 * @param host 分机IP
+	 * @param port 分机端口号
+	 * @param path 路径名称
+	 * @return 文件信息的列表
 	 */
 	public static List<FileInfo> listFiles(String host, int port,String path) {
 		Request req = new Request(Request.PARTITION_LISTFILES);
@@ -129,12 +129,12 @@ public class PartitionUtil {
 	}
 
 	/**
-	 * ļfnƵhsֻp·£hsУhʡԱ
-	 * @param fileName Դļ
-	 * @param partition 
-	 * @param hs Ŀֻ
-	 * @param dstPath Ŀ·
-	 * @param option ѡ
+	 * 将本机文件fn移到hs分机的p路径下，hs可是序列；h省略本机
+	 * @param fileName 源文件
+	 * @param partition 分区表号
+	 * @param hs 目标分机组
+	 * @param dstPath 目标路径
+	 * @param option 选项
 	 */
 	public static void moveFile(String fileName,int partition,
 			Machines hs, String dstPath, String option) {
@@ -148,21 +148,21 @@ public class PartitionUtil {
 		return option!=null && option.indexOf("y")>-1;
 	}
 	/**
-	 * movefile@yc(fn:h,p:hs)	ֻhϵļfnƵhsֻp·£hsУhʡԱ
-	 * hsʡΪ
-	 * p:hsʡɾ
-	 * hpʡԵhsɾhsµļ
-	 * @param host ԴIP
-	 * @param port Դ˿ں
-	 * @param fileName Դļ
-	 * @param partition 
-	 * @param hs Ŀֻ
-	 * @param dstPath Ŀ·
-	 * @param option ѡ
+	 * movefile@yc(fn:h,p:hs)	将分机h上的文件fn移到hs分机的p路径下，hs可是序列；h省略本机
+	 * hs省略为改名
+	 * p:hs省略删除
+	 * h和p省略但hs不空则删除hs下的文件
+	 * @param host 源机IP
+	 * @param port 源机端口号
+	 * @param fileName 源文件
+	 * @param partition 分区表号
+	 * @param hs 目标分机组
+	 * @param dstPath 目标路径
+	 * @param option 选项
 	 */
 	public static boolean moveFile(String host, int port, String fileName,int partition,
 			Machines hs, String dstPath, String option) {
-		// 1:ͬhostǱػϢhosthostִбز
+		// 1:如果同步的host不是本地机器，发送消息到host，从host机器执行本地操作。
 		if (host != null) {
 			boolean isLocal = host.equals(hm.getHost()) && port == hm.getPort();
 			if (!isLocal) {
@@ -177,26 +177,26 @@ public class PartitionUtil {
 			}
 		}
 		
-		//2:ɾ
+		//2:改名或者删除
 		String absolute = PartitionManager.getAbsolutePath(fileName);
 		File file = new File( absolute );
 		
-		if (hs == null) {//hsʡʱ
-			if(!file.exists()){//ֻڱزʱжϸļǷ
+		if (hs == null) {//hs省略时
+			if(!file.exists()){//只能在本地操作时，判断该文件是否存在
 				throw new RQException( absolute + " is not exist.");
 			}
-			if(!StringUtils.isValidString(dstPath)){//pҲʡʱɾļ
+			if(!StringUtils.isValidString(dstPath)){//p也省略时，则删除本地文件
 				file.delete();
 			}else{
-			//
+			//改名
 				if (file.exists()) {
 					File newFile = new File(file.getParent(), dstPath);
 					file.renameTo(newFile);
 				}
 			}
 			return true;
-		}else if(!StringUtils.isValidString(dstPath)){//pҲʡʱɾhsϵļ
-			//˴Զ̷ֻϵļжfileǷ
+		}else if(!StringUtils.isValidString(dstPath)){//p也省略时，则删除hs上的相关文件
+			//此处操作的是远程分机上的文件，不能判断file是否存在
 			for(int n=0;n<hs.size();n++){
 				String tmpHost = hs.getHost(n);
 				int tmpPort = hs.getPort(n);
@@ -205,7 +205,7 @@ public class PartitionUtil {
 				req.setAttr(Request.DELETE_Option, option);
 				try{
 					ask(tmpHost, tmpPort, req);
-				}catch(Exception x){//쳣ֹһֻ̨Ӱִֻ
+				}catch(Exception x){//捕获异常以阻止一台分机报错，影响其他分机执行
 					Logger.warn(x);
 				}
 			}
@@ -219,7 +219,7 @@ public class PartitionUtil {
 			throw new RQException( absolute + " is not exist.");
 		}
 
-		// 4:ϴзֻ
+		// 4:依次上传到所有分机
 		File dstFile = new File(dstPath);
 		boolean isDstAbsolute = dstFile.isAbsolute();
 		for (int n = 0; n < hs.size(); n++) {
@@ -234,7 +234,7 @@ public class PartitionUtil {
 			upload(hs.getHost(n), hs.getPort(n), tmpUpFiles, targetPath, true, isYOption(option));
 		}
 		
-		if(!isCOption(option)){//Ǹģʽʱɾļ
+		if(!isCOption(option)){//不是复制模式时，最后删除本机文件
 			file.delete();
 		}
 		
@@ -297,15 +297,15 @@ public class PartitionUtil {
 		Logger.debug("upload: " + file.getAbsolutePath() + " OK.");
 	}
 
-	// 
+	// 上载
 	/**
-	 * ֻhostϴһļļ
-	 * @param host ֻIPַ
-	 * @param port ֻĶ˿ں
+	 * 往分机host上上传一个文件或者文件夹
+	 * @param host 分机的IP地址
+	 * @param port 分机的端口号
 	 * @param localFile
-	 *            ļļ
+	 *            本地文件或者文件夹
 	 * @param dstPath
-	 *            صĿļnullʱlocalFileͬ
+	 *            上载到目标的文件名，null时与localFile同名
 	 * @throws Exception
 	 */
 	public static void upload(String host, int port, List localFiles, String dstPath) {
@@ -313,15 +313,15 @@ public class PartitionUtil {
 	}
 	
 	/**
-	 * ֻhostϴһƶģʽļȽLastModifiedֵǷƶ
-	 * @param host ֻIPַ
-	 * @param port ֻĶ˿ں
+	 * 往分机host上上传一个移动模式的文件，即不比较LastModified值来决定是否移动
+	 * @param host 分机的IP地址
+	 * @param port 分机的端口号
 	 * @param localFile
-	 *            ļļ
+	 *            本地文件或者文件夹
 	 * @param dstPath
-	 *            صĿļnullʱlocalFileͬ
-	 * @param isMove ǷΪƶģʽϴļ
-	 * @param isY ƶģʽʱǷǿƸĿļĻĿʱ
+	 *            上载到目标的文件名，null时与localFile同名
+	 * @param isMove 是否为移动模式的上传文件
+	 * @param isY 移动模式时，是否强制覆盖目标文件，否的话，存在目标时，报错
 	 */
 	public static void upload(String host, int port, List localFiles, String dstPath, boolean isMove, boolean isY) {
 		MessageManager mm = EngineMessage.get();
@@ -349,23 +349,23 @@ public class PartitionUtil {
 
 
 	/**
-	 * ·pathµļͬmachines
-	 * @param machines ĿķֻȺ
-	 * @param path ·
+	 * 将本机路径path下的文件同步到machines
+	 * @param machines 目的分机群
+	 * @param path 路径名称
 	 */
 	public static void syncTo(Machines machines, String path) {
 		syncTo(null,0,machines,path);
 	}
 	/**
-	 * host·pµļͬmachinesĶӦp·
-	 * @param host ͬĻIP
-	 * @param port ͬĻ˿
-	 * @param machines ͬĿĻȺ
-	 * @param pathҪͬ·
+	 * 将host机器路径p下的文件同步到machines的对应p路径
+	 * @param host 同步的机器IP
+	 * @param port 同步的机器端口
+	 * @param machines 待同步的目的机器群
+	 * @param path，要同步的路径名
 	 */
 	public static void syncTo(String host, int port, Machines machines, String path) {
 		MessageManager mm = EngineMessage.get();
-		// 0:Ŀķֻ
+		// 0:检查目的分机
 		if (machines == null || machines.size() == 0) {
 			throw new RQException(mm.getMessage("partitionutil.notarget"));
 		}
@@ -379,7 +379,7 @@ public class PartitionUtil {
 		}
 		
 		
-		// 1:ͬhostǱػϢhosthostִбز
+		// 1:如果同步的host不是本地机器，发送消息到host，从host机器执行本地操作。
 		if (host != null) {
 			boolean isLocal = host.equals(hm.getHost()) && port == hm.getPort();
 			if (!isLocal) {
@@ -391,19 +391,19 @@ public class PartitionUtil {
 			}
 		}
 		
-		// 2:гĿϵļ
+		// 2:列出目标机器上的所有文件
 		List<FileInfo>[] machineFileList = new List[machines.size()];
 		for (int i = 0; i < machines.size(); i++) {
 			List<FileInfo> fileInfosN = listFiles(machines.getHost(i), machines.getPort(i),path);
 			machineFileList[i] = fileInfosN;
 		}
 		
-		// 3:гļб
+		// 3:列出本机文件列表
 		List<FileInfo> localFiles = PartitionManager.listPathFiles( path, true);
 		
-		// 4:ļбθµзֻ
+		// 4:按本机文件列表，依次更新到所有分机
 		for (int i = 0; i < localFiles.size(); i++) {
-			FileInfo syncFi = (FileInfo) localFiles.get(i);// ͬļ
+			FileInfo syncFi = (FileInfo) localFiles.get(i);// 待同步文件
 			if(syncFi.isDir()){
 				continue;
 			}
@@ -413,7 +413,7 @@ public class PartitionUtil {
 				if (index >= 0) {
 					FileInfo fiN = (FileInfo) fileInfosN.get(index);
 					if (fiN.lastModified() > syncFi.lastModified())
-						continue;// ֻļһЩ
+						continue;// 分机的文件更新一些
 				}
 				ArrayList<String> tmpUpFiles = new ArrayList<String>();
 				File absFile = syncFi.getFile(path);
@@ -425,7 +425,7 @@ public class PartitionUtil {
 	}
 	
 
-	//ļ
+	//上载组表文件
 	private static void uploadCtxFile(UnitClient uc, File file, String dstPathName) throws Exception {
 		Request req;
 		if (!file.exists()) {
@@ -510,7 +510,7 @@ public class PartitionUtil {
 						continue;
 					raf.seek(pos);
 					raf.read(buf);
-					uc.write("m");//ʾǲ
+					uc.write("m");//表示是补块
 					uc.write(pos);
 					uc.write(buf);
 				}
@@ -522,7 +522,7 @@ public class PartitionUtil {
 						continue;
 					raf.seek(pos);
 					raf.read(buf);
-					uc.write("n");//ʾ
+					uc.write("n");//表示是正常块
 					uc.write(pos);
 					uc.write(buf);
 				}
@@ -532,7 +532,7 @@ public class PartitionUtil {
 			while (remoteFileSize < fileSize) {
 				raf.seek(remoteFileSize);
 				raf.read(buf);
-				uc.write("a");//ʾ
+				uc.write("a");//表示是增量块
 				uc.write(remoteFileSize);
 				uc.write(buf);
 				remoteFileSize += blockSize;
@@ -544,7 +544,7 @@ public class PartitionUtil {
 					continue;
 				raf.seek(pos);
 				raf.read(buf);
-				uc.write("h");//ʾheader
+				uc.write("h");//表示是header块
 				uc.write(pos);
 				uc.write(buf);
 			}
@@ -578,7 +578,7 @@ public class PartitionUtil {
 		Logger.debug("upload: " + file.getAbsolutePath() + " OK.");
 	}
 	
-	//ļ
+	//上载组表索引文件
 	private static void uploadIdxFile(UnitClient uc, File file, String dstPathName) throws Exception {
 		Request req;
 		if (!file.exists()) {
@@ -1,40 +1,131 @@
 package com.scudata.parallel;
 
+import java.util.Iterator;
+import java.util.LinkedList;
+
 import com.scudata.common.Logger;
+import com.scudata.thread.Job;
+import com.scudata.thread.ThreadPool;
 
 public class PerfMonitor {
-//ֽҵ/ʺҵ,Ҳı	
+//分进程锁，根据最大作业/适合作业数调度,也即定义的倍数	
 	private static Object LOCK1 = new Object();
 	private static volatile int concurrents = 0;
 
-//ҵ
+//主进程锁，根据最大作业数调度，超过最大作业数的作业放入等待队列，不占用线程等待
 	private static Object LOCKPROCESS = new Object();
 	private static volatile int processConcurrents = 0;
-
+	private static LinkedList<PendingJob> pendingProcesses = new LinkedList<PendingJob>();
+	private static LinkedList<PendingJob> startingProcesses = new LinkedList<PendingJob>(); // 已提交给线程池还没开始执行的作业
 	static HostManager hm = HostManager.instance();
 	
-	public static void enterProcess() {
+//分机连接池的统计
+	private static Object LOCKPOOL = new Object();
+	private static long createdConnections = 0; // 新建的连接数
+	private static long reusedConnections = 0; // 复用空闲连接的次数
+	private static long evictedConnections = 0; // 空闲超时或池满时关闭的连接数
+	private static long brokenConnections = 0; // 使用中出错而丢弃的连接数
+	private static int idleConnections = 0; // 池中当前的空闲连接数
+	
+	// 分进程作业及其线程池
+	private static class PendingJob {
+		private ThreadPool pool;
+		private Job job;
+
+		PendingJob(ThreadPool pool, Job job) {
+			this.pool = pool;
+			this.job = job;
+		}
+	}
+
+	/**
+	 * 提交分进程作业，并发数未满时直接提交给线程池，否则按先后顺序放入等待队列，
+	 * 有作业结束时再提交。作业开始执行时需要调用startProcess，执行完后调用leaveProcess
+	 * @param pool 线程池
+	 * @param job 作业
+	 */
+	public static void submitProcess(ThreadPool pool, Job job) {
 		synchronized (LOCKPROCESS) {
-			int maxNum = hm.getMaxTaskNum();
-			if (processConcurrents >= maxNum) {
-				try {
-					LOCKPROCESS.wait();
-				} catch (InterruptedException e) {
+			PendingJob pj = new PendingJob(pool, job);
+			if (processConcurrents >= hm.getMaxTaskNum()) {
+				pendingProcesses.add(pj);
+			} else {
+				submit(pj);
+			}
+		}
+	}
+
+	// 计入并发数并提交给线程池，在线程池中排队时也占用并发数，需在LOCKPROCESS内调用
+	private static void submit(PendingJob pj) {
+		processConcurrents++;
+		startingProcesses.add(pj);
+		pj.pool.submit(pj.job);
+	}
+
+	// 并发数未满时提交等待的作业，需在LOCKPROCESS内调用
+	private static void submitPending() {
+		while (!pendingProcesses.isEmpty() && processConcurrents < hm.getMaxTaskNum()) {
+			submit(pendingProcesses.removeFirst());
+		}
+	}
+
+	/**
+	 * 作业开始执行时调用
+	 * @param job 作业
+	 * @return 线程池已关闭、作业占用的并发数已被释放时返回false，此时作业不应再执行，也不需要调用leaveProcess
+	 */
+	public static boolean startProcess(Job job) {
+		synchronized (LOCKPROCESS) {
+			Iterator<PendingJob> itr = startingProcesses.iterator();
+			while (itr.hasNext()) {
+				if (itr.next().job == job) {
+					itr.remove();
+					return true;
 				}
 			}
-			processConcurrents++;
+
+			return false;
 		}
 	}
 
+	/**
+	 * 作业结束，如果有等待的作业则提交下一个
+	 */
 	public static void leaveProcess() {
 		synchronized (LOCKPROCESS) {
 			processConcurrents--;
-			LOCKPROCESS.notify();
+			submitPending();
+		}
+	}
+
+	/**
+	 * 线程池关闭前调用，删除线程池还在等待提交的作业，
+	 * 已提交但还没开始执行的作业会被线程池丢弃，释放它们占用的并发数
+	 * @param pool 线程池
+	 */
+	public static void removeProcesses(ThreadPool pool) {
+		synchronized (LOCKPROCESS) {
+			Iterator<PendingJob> itr = pendingProcesses.iterator();
+			while (itr.hasNext()) {
+				if (itr.next().pool == pool) {
+					itr.remove();
+				}
+			}
+
+			itr = startingProcesses.iterator();
+			while (itr.hasNext()) {
+				if (itr.next().pool == pool) {
+					itr.remove();
+					processConcurrents--;
+				}
+			}
+
+			submitPending();
 		}
 	}
 
 	/**
-	 * ȡֻеĲĿԶ̷ļҪѡٵķֻ
+	 * 获取分机上正在运行的并发任务数目，远程分区冗余文件需要挑选任务最少的分机
 	 * @return
 	 */
 	public static int getConcurrentTasks() {
@@ -42,22 +133,28 @@ public class PerfMonitor {
 	}
 
 	/**
-	 * 񣬴ȴ
+	 * 进入任务，处理并发数及等待数
+	 * @param mark 日志信息
+	 * @return 等待时被中断返回false，此时没有进入任务，不需要调用leaveTask
 	 */
-	public static void enterTask(Object mark) {
+	public static boolean enterTask(Object mark) {
 		synchronized (LOCK1) {
-			int maxNum = hm.getMaxTaskNum();
-			
-			if (concurrents >= maxNum) {
+			// 被唤醒时可能已有其它线程先进入，需要重新判断
+			while (concurrents >= hm.getMaxTaskNum()) {
 				try {
 					LOCK1.wait();
 				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
 				}
 			}
+			
 			concurrents++;
 			if(mark!=null){
 				Logger.debug(mark);
 			}
+			
+			return true;
 		}
 	}
 
@@ -71,4 +168,54 @@ public class PerfMonitor {
 		}
 	}
 
+	static void connectionCreated() {
+		synchronized (LOCKPOOL) {
+			createdConnections++;
+		}
+	}
+
+	static void connectionReused() {
+		synchronized (LOCKPOOL) {
+			reusedConnections++;
+		}
+	}
+
+	static void connectionEvicted(int count) {
+		synchronized (LOCKPOOL) {
+			evictedConnections += count;
+		}
+	}
+
+	static void connectionBroken() {
+		synchronized (LOCKPOOL) {
+			brokenConnections++;
+		}
+	}
+
+	static void setIdleConnections(int count) {
+		synchronized (LOCKPOOL) {
+			idleConnections = count;
+		}
+	}
+
+	/**
+	 * 获取分机连接池的统计
+	 * @return [新建连接数, 复用次数, 关闭的空闲连接数, 出错丢弃的连接数, 当前空闲连接数]
+	 */
+	public static long[] getConnectionStats() {
+		synchronized (LOCKPOOL) {
+			return new long[] {createdConnections, reusedConnections, 
+					evictedConnections, brokenConnections, idleConnections};
+		}
+	}
+
+	/**
+	 * 获取分机连接池的统计描述，用于输出日志
+	 * @return 描述串
+	 */
+	public static String getConnectionInfo() {
+		long []stats = getConnectionStats();
+		return "UnitConnectionPool: created=" + stats[0] + ", reused=" + stats[1] + 
+				", evicted=" + stats[2] + ", broken=" + stats[3] + ", idle=" + stats[4];
+	}
 }
@@ -10,13 +10,13 @@ import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
 /**
- * 
+ * 组表代理
  * @author RunQian
  *
  */
 public class PhyTableProxy extends IProxy {
 	private IPhyTable tableMetaData;
-	private FileObject tempFile;//appendʱļ
+	private FileObject tempFile;//append临时文件
 	
 	public PhyTableProxy(IPhyTable tableMetaData) {
 		this.tableMetaData = tableMetaData;
@@ -36,12 +36,12 @@ public class PhyTableProxy extends IProxy {
 		return table;
 	}
 	
-	// ȡappendõʱļ
+	// 取append数据用的临时文件
 	public FileObject getTempFile() {
 		return tempFile;
 	}
 
-	// ʱļڴappend
+	// 创建临时文件，用于存放append数据
 	public void createTempFile() {
 		tempFile = FileObject.createTempFileObject();
 	}
@@ -4,8 +4,8 @@ import com.scudata.dm.*;
 import com.scudata.server.unit.UnitServer;
 
 /**
- * 
- * ʱ(System.currentTimeMillis()-proxy.lastAccessTime()>service.getTimeout)Ķرղɾ
+ * 代理监视器
+ * 超时(System.currentTimeMillis()-proxy.lastAccessTime()>service.getTimeout)的对象关闭并删除
  * @author Joancy
  *
  */
@@ -14,31 +14,31 @@ public class ProxyMonitor extends Thread {
 	volatile boolean stop = false;
 
 	/**
-	 * 
+	 * 创建代理监视器
 	 */
 	public ProxyMonitor(){
 		this.setName(toString());
 	}
 	
 	/**
-	 * ʵtoString
+	 * 实现toString描述
 	 */
 	public String toString(){
 		return "ProxyMonitor";
 	}
 
 	/**
-	 * ֹͣ߳
+	 * 停止线程
 	 */
 	public void stopThread() {
 		stop = true;
 	}
 
 	/**
-	 * ߳
+	 * 运行线程
 	 */
 	public void run() {
-		// timeOutΪ0ʱ鳬ʱ
+		// timeOut为0时，不检查超时
 		UnitContext uc = UnitServer.instance.getUnitContext();
 		int interval = uc.getInterval();
 		int proxyTimeOut = uc.getProxyTimeOut();
@@ -46,13 +46,13 @@ public class ProxyMonitor extends Thread {
 			return;
 		}
 		
-		//ʱĵλΪСʱȻΪλ xq 20161222
+		//超时的单位改为小时，先化成秒为单位 xq 2016年12月22日
 		proxyTimeOut = proxyTimeOut*3600;
 		
 		while (!stop) {
 			try {
 				sleep(interval * 1000);
-				TaskManager.checkTimeOut(proxyTimeOut);//صα
+				TaskManager.checkTimeOut(proxyTimeOut);//任务记载的游标对象
 				RemoteFileProxyManager.checkTimeOut(proxyTimeOut);
 				RemoteCursorProxyManager.checkTimeOut(proxyTimeOut);
 				JobSpaceManager.checkTimeOut(proxyTimeOut);
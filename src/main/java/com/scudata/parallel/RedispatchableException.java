@@ -1,7 +1,7 @@
 package com.scudata.parallel;
 
 /**
- * ҵ쳣
+ * 作业可重派异常
  * 
  * @author Joancy
  *
@@ -12,8 +12,8 @@ public class RedispatchableException extends Throwable{
   private Error e;
   
   /**
-   * 쳣
-   * @param o 쳣Ϣ
+   * 创建可重派异常
+   * @param o 异常消息
    */
   public RedispatchableException( Object o ){
     if( o instanceof Exception ){
@@ -32,28 +32,28 @@ public class RedispatchableException extends Throwable{
   }
 
   /**
-   * 쳣ԭ
+   * 异常的原因
    */
   public Throwable getCause(){
       return getThrowable().getCause();
   }
 
   /**
-   * ȡϢ
+   * 获取本地描述信息
    */
   public String getLocalizedMessage(){
       return getThrowable().getLocalizedMessage();
   }
 
   /**
-   * ȡ쳣Ϣ
+   * 获取异常信息
    */
   public String getMessage(){
     return getThrowable().getMessage();
   }
 
   /**
-   * ȡ쳣Ķջ
+   * 取异常的堆栈
    */
   public StackTraceElement[] getStackTrace(){
     return getThrowable().getStackTrace();
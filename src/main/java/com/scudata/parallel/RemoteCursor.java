@@ -7,7 +7,7 @@ import com.scudata.dm.*;
 import com.scudata.dm.cursor.ICursor;
 
 /**
- * Զα
+ * 远程游标
  * 
  * @author Joancy
  *
@@ -21,11 +21,11 @@ public class RemoteCursor extends ICursor implements Serializable {
 	boolean isClosed = false;
 
 	/**
-	 * һԶα
-	 * @param host IP
-	 * @param port ˿ں
-	 * @param taskId 
-	 * @param proxyId α
+	 * 创建一个远程游标
+	 * @param host 主机IP
+	 * @param port 端口号
+	 * @param taskId 任务号
+	 * @param proxyId 游标代理号
 	 */
 	public RemoteCursor(String host, int port, int taskId, int proxyId){
 		this.host = host;
@@ -35,10 +35,10 @@ public class RemoteCursor extends ICursor implements Serializable {
 	}
 	
 	/**
-	 * Զα
-	 * @param host IP
-	 * @param port ˿ں
-	 * @param proxyId α
+	 * 创建远程游标
+	 * @param host 主机IP
+	 * @param port 端口号
+	 * @param proxyId 游标代理号
 	 */
 	public RemoteCursor(String host, int port, int proxyId){
 		this(host,port,-1,proxyId);
@@ -113,8 +113,8 @@ public class RemoteCursor extends ICursor implements Serializable {
 	}
 	
 	/**
-	 * ȡαݽṹϢ
-	 * @return ݽṹ
+	 * 取游标的数据结构信息
+	 * @return 数据结构
 	 */
 	public DataStruct getDataStruct() {
 		if(dataStruct!=null){
@@ -128,7 +128,7 @@ public class RemoteCursor extends ICursor implements Serializable {
 	
 
 	/**
-	 * ʵtoStringı
+	 * 实现toString的文本描述
 	 */
 	public String toString() {
 		return "RemoteCursor@" + host + ":" + port + " cursorId:" + proxyId;
@@ -6,9 +6,9 @@ import com.scudata.dm.cursor.ICursor;
 import com.scudata.server.unit.UnitServer;
 
 /**
- * Զα
- * ֹʹûһȡݽṹα¼Ϊʱrowһк󣬻Զcloseα
- * Ȼɺαα걻ˣûˣ
+ * 远程游标代理
+ * 禁止使用缓冲一行来读取数据结构，当游标记录为空时，采用row缓冲读了一行后，会自动close掉该游标
+ * 然后造成后续游标操作出错（游标被关了，就没了）
  * @author Joancy
  *
  */
@@ -20,18 +20,18 @@ public class RemoteCursorProxy extends ICursor {
 	private long lastAccessTime = -1;
 	
 	/**
-	 * Զα
-	 * @param cs α
+	 * 构造远程游标代理
+	 * @param cs 游标
 	 */
 	public RemoteCursorProxy(ICursor cs) {
 		this(null,cs,-1);
 	}
 	
 	/**
-	 * Զα
-	 * @param rcpm Զα
-	 * @param cs α
-	 * @param id 
+	 * 构造远程游标代理
+	 * @param rcpm 远程游标代理管理器
+	 * @param cs 游标对象
+	 * @param id 代理编号
 	 */
 	public RemoteCursorProxy(RemoteCursorProxyManager rcpm, ICursor cs, int id) {
 		if(rcpm==null){
@@ -59,14 +59,14 @@ public class RemoteCursorProxy extends ICursor {
 	}
 
 	/**
-	 * ٵǰ
+	 * 销毁当前对象
 	 */
 	public void destroy() {
 		cs.close();
 	}
 
 	/**
-	 * رʱǰеĴбɾ
+	 * 关闭时将当前代理从任务中的代理列表中删除
 	 */
 	public synchronized void close() {
 		destroy();
@@ -80,14 +80,14 @@ public class RemoteCursorProxy extends ICursor {
 	}
 
 	/**
-	 * ʵtoStringı
+	 * 实现toString文本描述
 	 */
 	public String toString() {
 		return "RemoteCursorProxy :" + proxyId;
 	}
 	
 	/**
-	 * ȡݽṹ
+	 * 取数据结构
 	 */
 	public DataStruct getDataStruct() {
 		if(dataStruct!=null) return dataStruct;
@@ -101,12 +101,12 @@ public class RemoteCursorProxy extends ICursor {
 	}
 
 	/**
-	 * ʱ
-	 * @param timeOut ʱʱ
-	 * @return ʱٶ󣬷true򷵻false
+	 * 超时检查
+	 * @param timeOut 超时的时间
+	 * @return 如果超时则销毁对象，返回true，否则返回false
 	 */
 	public boolean checkTimeOut(int timeOut) {
-		// 룬timeOutλΪ
+		// 换算成秒，timeOut单位为秒
 		if ((System.currentTimeMillis() - lastAccessTime) / 1000 > timeOut) {
 			Logger.info(this + " is timeout.");
 			destroy();
@@ -8,7 +8,7 @@ import com.scudata.dm.cursor.ICursor;
 import java.lang.reflect.*;
 
 /**
- * Զα
+ * 远程游标代理管理器
  * @author Joancy
  *
  */
@@ -19,8 +19,8 @@ public class RemoteCursorProxyManager {
 	ArrayList<RemoteCursorProxy> proxys = new ArrayList<RemoteCursorProxy>();
 
 	/**
-	 * Ϊּ֧Ⱥα꣬ʹþ̬ùκTasktaskΪnull
-	 * @return α
+	 * 为了支持集群游标，使用静态管理器，该管理器不属于任何Task，task为null
+	 * @return 游标代理管理器
 	 */
 	public static RemoteCursorProxyManager getInstance(){
 		if(instance==null){
@@ -30,9 +30,9 @@ public class RemoteCursorProxyManager {
 	}
 	
 	/**
-	 * һα꣬α
-	 * @param c α
-	 * @return 
+	 * 增加一个游标，返回游标代理号
+	 * @param c 游标
+	 * @return 代理号
 	 */
 	public static int addCursor(ICursor c){
 		RemoteCursorProxyManager rcpm = RemoteCursorProxyManager.getInstance();
@@ -42,23 +42,23 @@ public class RemoteCursorProxyManager {
 	}
 
 	/**
-	 * α
-	 * @param t 
+	 * 创建游标代理管理器
+	 * @param t 隶属的任务
 	 */
 	public RemoteCursorProxyManager(ITask t) {
 		this.task = t;
 	}
 
 	/**
-	 * ȡб
-	 * @return б
+	 * 获取代理列表
+	 * @return 代理列表
 	 */
 	public ArrayList<RemoteCursorProxy> getProxys(){
 		return proxys;
 	}
 	
 	/**
-	 * ٵǰ
+	 * 销毁当前代理器
 	 */
 	public void destroy() {
 		for (int i = 0; i < proxys.size(); i++) {
@@ -69,17 +69,17 @@ public class RemoteCursorProxyManager {
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取任务对象
+	 * @return 任务
 	 */
 	public ITask getTask() {
 		return task;
 	}
 
 	/**
-	 * ִ
-	 * @param req 
-	 * @return Ӧ
+	 * 执行请求
+	 * @param req 请求
+	 * @return 响应
 	 */
 	public Response execute(Request req) {
 		if(task!=null){
@@ -92,7 +92,7 @@ public class RemoteCursorProxyManager {
 			RemoteCursorProxy rcp = getProxy(proxyId);
 			String methodName = (String) req.getAttr(Request.METHOD_MethodName);
 			if(methodName.equals("close")&&rcp==null){
-//ڴαfetchԶcloseˣʱͻٷclose账Ѿڸô				
+//由于代理端游标fetch完后，自动close掉了，此时客户端再发来的close，不需处理，已经不存在该代理。				
 				return res;
 			}
 			Object[] args = (Object[]) req.getAttr(Request.METHOD_ArgValues);
@@ -116,17 +116,17 @@ public class RemoteCursorProxyManager {
 	}
 
 	/**
-	 * α
-	 * @param rcp α
+	 * 增加游标代理
+	 * @param rcp 游标代理
 	 */
 	public synchronized void addProxy(RemoteCursorProxy rcp) {
 		proxys.add(rcp);
 	}
 
 	/**
-	 * ɾ
-	 * дɾպеĳͷ
-	 * @param proxyID ҪɾĴ
+	 * 删除代理对象
+	 * 所有代理都删空后将任务中的程序网释放
+	 * @param proxyID 要删除的代理编号
 	 */
 	public synchronized void delProxy(int proxyID) {
 		for (int i = 0; i < proxys.size(); i++) {
@@ -144,9 +144,9 @@ public class RemoteCursorProxyManager {
 	}
 
 	/**
-	 * ݴproxyIDȥ
-	 * @param proxyID 
-	 * @return α
+	 * 根据代理编号proxyID去代理对象
+	 * @param proxyID 代理编号
+	 * @return 游标代理对象
 	 */
 	public synchronized RemoteCursorProxy getProxy(int proxyID) {
 		for (int i = 0; i < proxys.size(); i++) {
@@ -159,12 +159,12 @@ public class RemoteCursorProxyManager {
 	}
 
 	/**
-	 * ʹ÷ִķ
-	 * @param owner 
-	 * @param methodName 
-	 * @param args 
-	 * @return ִн
-	 * @throws Exception ʱ׳쳣
+	 * 使用反射执行类的方法
+	 * @param owner 主类
+	 * @param methodName 方法名
+	 * @param args 参数
+	 * @return 执行结果
+	 * @throws Exception 出错时抛出异常
 	 */
 	public static Object invokeMethod(Object owner, String methodName,
 			Object[] args) throws Exception {
@@ -210,7 +210,7 @@ public class RemoteCursorProxyManager {
 	}
 
 	private static boolean localMatch(Class c, Object o) {
-		// Ϊnullʱƥ
+		// 参数为null时，假设匹配
 		if (o == null)
 			return true;
 
@@ -241,12 +241,12 @@ public class RemoteCursorProxyManager {
 	}
 
 	/**
-	 * ʱ
-	 * @param proxyTimeOut ʱʱ
+	 * 检查代理超时
+	 * @param proxyTimeOut 超时时间
 	 */
 	public static synchronized void checkTimeOut(int proxyTimeOut) {
 		RemoteCursorProxyManager instance = RemoteCursorProxyManager.getInstance();
-		// 룬timeOutλΪ
+		// 换算成秒，timeOut单位为秒
 		ArrayList<RemoteCursorProxy> proxys = instance.getProxys();
 		for (int i = proxys.size() - 1; i >= 0; i--) {
 			RemoteCursorProxy rcp = proxys.get(i);
@@ -6,7 +6,7 @@ import com.scudata.common.*;
 import com.scudata.dm.*;
 
 /**
- * Զļ
+ * 远程文件代理
  * 
  * @author Joancy
  *
@@ -23,17 +23,17 @@ public class RemoteFileProxy {
 	private long readPosition = -1;
 	
 	/**
-	 * Զļ
-	 * @param fileName ļ
-	 * @param partition 
-	 * @param id 
-	 * @param isAppend Ƿ׷
+	 * 创建远程文件代理器
+	 * @param fileName 文件名
+	 * @param partition 分区表
+	 * @param id 代理编号
+	 * @param isAppend 是否追加
 	 */
 	public RemoteFileProxy(String fileName, Integer partition,int id, Boolean isAppend) {
 		this.fileName = fileName;
 		this.partition = partition;
 		this.proxyId = id;
-		if(isAppend!=null){//Сܵڴ󲼶ֵΪnullʱת,nullʱת
+		if(isAppend!=null){//小布尔能等于大布尔，值为null时，如何转换的,null时，转换出错
 			this.isAppend = isAppend;
 		}
 		access();
@@ -41,7 +41,7 @@ public class RemoteFileProxy {
 	
 
 	/**
-	 * ʵtoStringϢ
+	 * 实现toString描述信息
 	 */
 	public String toString(){
 		StringBuffer sb = new StringBuffer();
@@ -49,7 +49,7 @@ public class RemoteFileProxy {
 		return sb.toString();
 	}
 	
-	 // ǰеĴ
+	 // 当前任务中的代理编号
 	int getProxyID() {
 		return proxyId;
 	}
@@ -65,10 +65,10 @@ public class RemoteFileProxy {
 	byte[] buf = null;
 	
 	/**
-	 * ȡָĿֽ
-	 * @param bufSize Ŀ
-	 * @return ֽ
-	 * @throws Exception ʱ׳쳣
+	 * 读取指定数目的字节数据
+	 * @param bufSize 数目
+	 * @return 字节数据
+	 * @throws Exception 出错时抛出异常
 	 */
 	public byte[] read(int bufSize) throws Exception {
 		if (buf == null) {
@@ -100,9 +100,9 @@ public class RemoteFileProxy {
 	}
 
 	/**
-	 * Զļдֽ
-	 * @param bytes ֽ
-	 * @throws Exception дʱ׳쳣
+	 * 往远程文件写出字节数据
+	 * @param bytes 字节数据
+	 * @throws Exception 写出错时抛出异常
 	 */
 	public void write(byte[] bytes) throws Exception {
 		RandomOutputStream os = getRandomOutputStream();
@@ -111,9 +111,9 @@ public class RemoteFileProxy {
 	}
 	
 	/**
-	 * öдļαλ
-	 * @param posi λֵ
-	 * @throws IOException ó׳쳣
+	 * 设置读写文件的游标位置
+	 * @param posi 位置值
+	 * @throws IOException 设置出错抛出异常
 	 */
 	public void setPosition(long posi) throws IOException{
 		RandomOutputStream os = getRandomOutputStream();
@@ -121,9 +121,9 @@ public class RemoteFileProxy {
 	}
 	
 	/**
-	 * ȡǰдλ
-	 * @return λֵ
-	 * @throws IOException ʱ׳쳣
+	 * 取当前读写位置
+	 * @return 位置值
+	 * @throws IOException 出错时抛出异常
 	 */
 	public long position() throws IOException{
 		RandomOutputStream os = getRandomOutputStream();
@@ -159,25 +159,25 @@ public class RemoteFileProxy {
 	}
 
 	/**
-	 * Ըļ
-	 * @return ɹtrue򷵻false
-	 * @throws Exception 쳣
+	 * 尝试给文件加锁
+	 * @return 成功加锁返回true，否则返回false
+	 * @throws Exception 加锁异常
 	 */
 	public boolean tryLock() throws Exception{
 		return getRandomOutputStream().tryLock();
 	}
 
 	/**
-	 * ǰļ
-	 * @return ɹtrue򷵻false
-	 * @throws Exception ׳쳣
+	 * 锁定当前文件
+	 * @return 锁成功返回true，否则返回false
+	 * @throws Exception 加锁出错抛出异常
 	 */
 	public boolean lock() throws Exception{
 		return getRandomOutputStream().lock();
 	}
 	
 	/**
-	 * رļ
+	 * 关闭文件代理
 	 */
 	public void close() {
 		destroy();
@@ -185,7 +185,7 @@ public class RemoteFileProxy {
 	}
 
 	/**
-	 * ٴ
+	 * 销毁代理对象
 	 */
 	public void destroy() {
 		if (is != null) {
@@ -203,12 +203,12 @@ public class RemoteFileProxy {
 	}
 
 	/**
-	 * ĳʱ
-	 * @param timeOut ʱʱ
-	 * @return ʱٶ󲢷true򷵻false
+	 * 检查代理对象的超时
+	 * @param timeOut 超时的时间
+	 * @return 超时后销毁对象并返回true，否则返回false
 	 */
 	public boolean checkTimeOut(int timeOut) {
-		// 룬timeOutλΪ
+		// 换算成秒，timeOut单位为秒
 		if ((System.currentTimeMillis() - lastAccessTime) / 1000 > timeOut) {
 			Logger.info(this + " is timeout.");
 			destroy();
@@ -8,7 +8,7 @@ import com.scudata.dm.*;
 import com.scudata.server.unit.UnitServer;
 
 /**
- * Զļ
+ * 远程文件代理管理器
  * 
  * @author Joancy
  *
@@ -17,7 +17,7 @@ public class RemoteFileProxyManager {
 	static ArrayList<RemoteFileProxy> proxys = new ArrayList<RemoteFileProxy>();
 
 	/**
-	 * ȡļб
+	 * 获取文件代理列表
 	 * @return
 	 */
 	public static ArrayList<RemoteFileProxy> getFileProxys(){
@@ -25,10 +25,10 @@ public class RemoteFileProxyManager {
 	}
 	
 	/**
-	 * ִд
-	 * @param req 
-	 * @param sd ͨѶ׽
-	 * @return Ӧ
+	 * 执行代理访问请求
+	 * @param req 请求
+	 * @param sd 通讯套接字
+	 * @return 响应
 	 */
 	public static Response execute(Request req, SocketData sd) {
 		Response res = new Response();
@@ -44,7 +44,7 @@ public class RemoteFileProxyManager {
 				partition = (Integer) req.getAttr(Request.OPEN_Partition);
 //				lf = new LocalFile(fileName, "s", partition);
 				id = UnitServer.nextId();
-				String opt = (String) req.getAttr(Request.OPEN_Opt);//˴ҪFILE_GETPROPERTYͬ
+				String opt = (String) req.getAttr(Request.OPEN_Opt);//此处需要跟FILE_GETPROPERTY同步
 				if(opt!=null){
 					opt = opt.toLowerCase();
 					if(opt.indexOf('t')>=0){
@@ -66,11 +66,11 @@ public class RemoteFileProxyManager {
 				break;
 			case Request.FILE_GETPROPERTY:
 				fileName = (String) req.getAttr(Request.GETPROPERTY_FileName);
-				String op = (String) req.getAttr(Request.OPEN_Opt);//˴ҪFILE_OPENͬѡĸ·ļλõĲͬ
+				String op = (String) req.getAttr(Request.OPEN_Opt);//此处需要跟FILE_OPEN同步，选项会更改父路径，以造成文件位置的不同
 				if(op!=null){
 					op = op.toLowerCase();
 					if(op.indexOf('t')>=0){
-//						  opttʱĿ¼ΪEnv.getTempPath()partition
+//						  opt含t时父目录为Env.getTempPath()，partition不起作用
 						fileName = new File(Env.getTempPath(),fileName).getPath();
 					}
 				}
@@ -164,11 +164,11 @@ public class RemoteFileProxyManager {
 	}
 
 	/**
-	 * isȡsizeֽڵ
-	 * @param is 
-	 * @param size ֽ
-	 * @return ֽ
-	 * @throws Exception ȡʧ׳쳣
+	 * 从输入流is读取size字节的数据
+	 * @param is 输入流
+	 * @param size 字节数
+	 * @return 字节数据
+	 * @throws Exception 读取失败抛出异常
 	 */
 	public static byte[] read(InputStream is, int size) throws Exception {
 		byte[] buf = new byte[size];
@@ -187,16 +187,16 @@ public class RemoteFileProxyManager {
 	}
 
 	/**
-	 * һļ
-	 * @param rfp ļ
+	 * 增加一个文件代理对象
+	 * @param rfp 文件代理
 	 */
 	public static synchronized void addProxy(RemoteFileProxy rfp) {
 		proxys.add(rfp);
 	}
 
 	/**
-	 * ɾָĴ
-	 * @param proxyID ҪɾĴ
+	 * 删除指定的代理
+	 * @param proxyID 要删除的代理编号
 	 */
 	public static synchronized void delProxy(int proxyID) {
 		for (int i = 0; i < proxys.size(); i++) {
@@ -209,10 +209,10 @@ public class RemoteFileProxyManager {
 	}
 
 	/**
-	 * ȡָproxyIdĴ
-	 * @param proxyId 
-	 * @return 
-	 * @throws Exception ûҵʱ׳쳣
+	 * 获取指定编号proxyId的代理对象
+	 * @param proxyId 编号
+	 * @return 代理对象
+	 * @throws Exception 没找到时抛出异常
 	 */
 	public static synchronized RemoteFileProxy getProxy(int proxyId)
 			throws Exception {
@@ -226,10 +226,10 @@ public class RemoteFileProxyManager {
 	}
 
 	/**
-	 * ʱ
+	 * 检查代理超时
 	 */
 	public static synchronized void checkTimeOut(int proxyTimeOut) {
-		// 룬timeOutλΪ
+		// 换算成秒，timeOut单位为秒
 		for (int i = proxys.size() - 1; i >= 0; i--) {
 			RemoteFileProxy rft = proxys.get(i);
 			if (rft.checkTimeOut(proxyTimeOut)) {
@@ -7,24 +7,24 @@ class RemoteMemoryTable implements Serializable {
 	
 	private String host;
 	private int port;
-	private int proxyId; // 
-	private int recordCount; // ¼
+	private int proxyId; // 代理号
+	private int recordCount; // 记录数
 	
-	// ǷֲҪ
-	private Object startKeyValue; // ¼ֵ
+	// 如果不是分布的则要求数据有序
+	private Object startKeyValue; // 首条记录的主键值
 	private int keyCount;
 	
-	private String distribute; // ֲʽ
-	private int part; // 
+	private String distribute; // 分布表达式
+	private int part; // 分区
 	
 	public RemoteMemoryTable() {
 	}
 	
 	/**
-	 * @param host ڵip
-	 * @param port ڵ˿
-	 * @param proxyId Զ̴ʶ
-	 * @param recordCount ¼
+	 * @param host 节点机ip
+	 * @param port 节点机端口
+	 * @param proxyId 远程代理标识
+	 * @param recordCount 记录数
 	 */
 	public RemoteMemoryTable(String host, int port, int proxyId, int recordCount) {
 		this.host = host;
@@ -34,8 +34,8 @@ class RemoteMemoryTable implements Serializable {
 	}
 	
 	/**
-	 * @param startKeyValue ¼ֵֶʱΪֵ
-	 * @param keyCount 
+	 * @param startKeyValue 首条记录主键值，多字段主键时为主键值数组
+	 * @param keyCount 主键个数
 	 */
 	public void setStartKeyValue(Object startKeyValue, int keyCount) {
 		this.startKeyValue = startKeyValue;
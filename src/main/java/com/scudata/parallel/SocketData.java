@@ -2,6 +2,8 @@ package com.scudata.parallel;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
@@ -9,27 +11,64 @@ import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.util.Iterator;
+import java.util.LinkedList;
 
 import com.scudata.common.Logger;
 import com.scudata.dm.Env;
 
 /**
- * װ˲׽
- * ʹøö󣬿ͻ˺ͷ˿ֱӽиЧݴ
+ * 封装了参数调整后的数据套接字
+ * 使用该对象后，客户端和服务端可以直接进行高效的数据传输
+ * 连接建立后客户端可以调用negotiate协商使用二进制协议，对方是旧版本分机时继续使用对象流，
+ * 二进制协议的每帧由长度、请求号和BinaryProtocol编码的内容组成，一个连接上可以同时有多个未应答的请求
  * @author Joancy
  *
  */
 public class SocketData{
+	public static final int PROTOCOL_VERSION = 1; // 二进制协议的版本，0表示对象流
+	private static boolean isBinaryEnabled = true; // 是否允许协商使用二进制协议
+	
 	int socketBuf = Env.getFileBufSize();
 	private Socket socket;
 	
 	private ObjectOutputStream oos=null;
 	private ObjectInputStream ois=null;
 	
+	private DataOutputStream dos = null; // 二进制协议的输出流，跟对象流共用缓冲流
+	private DataInputStream dis = null;
+	private BufferedInputStream bis = null; // 输入的缓冲流，用于不取走数据地等待数据到达
+	private boolean isBinary = false; // 是否已经协商成二进制协议
+	private boolean isServer = false;
+	private int nextId = 0; // 客户端下一个请求的请求号
+	private int receiveId = 0; // 对象流时按顺序给收到的应答编号
+	private int replyId = 0; // 服务端最后收到的请求号，应答时带回
+	private LinkedList<Object[]> pendings = new LinkedList<Object[]>(); // 已收到还没被取走的应答，[请求号, 对象]
+	
+	// 读的锁，多个线程在同一连接上取应答时一次只有一个线程读流和暂存的应答
+	// 写用另外的锁，等应答的线程不会挡住其它线程发请求
+	private final Object readLock = new Object();
+	
+	/**
+	 * 设置是否允许协商使用二进制协议，跟旧版本分机通讯出问题时可以关闭
+	 * @param b true：允许，false：只用对象流
+	 */
+	public static void setBinaryEnabled(boolean b) {
+		isBinaryEnabled = b;
+	}
+	
 	/**
-	 * socketһ׽
-	 * @param socket ׽ֶ
-	 * @throws Exception ʱ׳쳣
+	 * 返回是否允许协商使用二进制协议
+	 * @return boolean
+	 */
+	public static boolean isBinaryEnabled() {
+		return isBinaryEnabled;
+	}
+	
+	/**
+	 * 基于socket构建一个数据套接字
+	 * @param socket 套接字对象
+	 * @throws Exception 构造出错时抛出异常
 	 */
 	public SocketData(Socket socket) throws Exception{
 		this.socket = socket;
@@ -42,46 +81,102 @@ public class SocketData{
 	}
 	
 	/**
-	 * ͻ˴׽ݺҪͻͨѶ
-	 * @throws IOException ʱ׳쳣
+	 * 客户端创建套接字数据后，需要产生客户端通讯流
+	 * @throws IOException 出错时抛出异常
 	 */
 	public void holdCommunicateStreamClient() throws IOException{
 		OutputStream os = socket.getOutputStream();
-		// ԽsocketĽջԽԭԽ죻ļĶдûлʱ
-		//ٶҲԽ죬Ҷһúܴʱڴע
-		// ڴݷʱл
-		BufferedOutputStream bos = new BufferedOutputStream(os);// ,socketBuf,˻sizeòǺܴ
+		// 测试结果，socket的接收缓冲越大，原则上越快；对于文件流的读写，没有缓冲流时，
+		//速度也越快，而且多个缓冲流且缓冲块设置很大时，会内存溢出，故注释
+		// 纯内存数据发送时，有缓冲流会快
+		BufferedOutputStream bos = new BufferedOutputStream(os);// ,socketBuf,有了缓冲后，size本身的作用不是很大
 		oos = new ObjectOutputStream(bos);
-		oos.flush();//flushдʱ
+		oos.flush();//流创建后立刻flush，避免多次连续写时死锁；
+		dos = new DataOutputStream(bos);
 		
 		InputStream is = socket.getInputStream();
-		BufferedInputStream bis = new BufferedInputStream(is);
+		bis = new BufferedInputStream(is);
 		ois = new ObjectInputStream(bis);
+		dis = new DataInputStream(bis);
 	}
 
 	/**
-	 * ˴׽ݺҪͨѶ
-	 * @throws IOException ʱ׳쳣
+	 * 服务端创建套接字数据后，需要产生服务端通讯流
+	 * @throws IOException 出错时抛出异常
 	 */
 	public void holdCommunicateStreamServer() throws IOException{
 		InputStream is = socket.getInputStream();
-		BufferedInputStream bis = new BufferedInputStream(is);
+		bis = new BufferedInputStream(is);
 		ois = new ObjectInputStream(bis);
+		dis = new DataInputStream(bis);
+		isServer = true;
 
 		OutputStream os = socket.getOutputStream();
-		// ԽsocketĽջԽԭԽ죻ļĶдûлʱٶҲԽ죬Ҷһúܴʱڴע
-		// ڴݷʱл
-		BufferedOutputStream bos = new BufferedOutputStream(os);// ,socketBuf,˻sizeòǺܴ
+		// 测试结果，socket的接收缓冲越大，原则上越快；对于文件流的读写，没有缓冲流时，速度也越快，而且多个缓冲流且缓冲块设置很大时，会内存溢出，故注释
+		// 纯内存数据发送时，有缓冲流会快
+		BufferedOutputStream bos = new BufferedOutputStream(os);// ,socketBuf,有了缓冲后，size本身的作用不是很大
 		oos = new ObjectOutputStream(bos);
-		oos.flush();//flushдʱ
+		oos.flush();//流创建后立刻flush，避免多次连续写时死锁；
+		dos = new DataOutputStream(bos);
+	}
+
+	/**
+	 * 客户端连接后协商通讯协议，旧版本分机不认识协商命令，返回空结果，继续使用对象流
+	 * 协商的请求和应答不重置对象流，切换后对象流不再使用
+	 * @return 使用二进制协议时返回true，否则返回false
+	 * @throws IOException 通讯出错时抛出异常
+	 */
+	public boolean negotiate() throws IOException {
+		if (!isBinaryEnabled || isBinary) {
+			return isBinary;
+		}
+		
+		Request req = new Request(Request.SERVER_PROTOCOL);
+		req.setAttr(Request.PROTOCOL_Version, PROTOCOL_VERSION);
+		oos.writeUnshared(req);
+		oos.flush();
+		
+		try {
+			Response res = (Response)ois.readUnshared();
+			Object version = res.getResult();
+			isBinary = version instanceof Integer && ((Integer)version).intValue() > 0;
+		} catch (ClassNotFoundException e) {
+			throw new IOException(e.getMessage(), e);
+		}
 		
+		return isBinary;
+	}
+
+	/**
+	 * 服务端收到协商命令后应答支持的协议版本，然后切换到二进制协议
+	 * @param req 协商命令
+	 * @throws IOException 通讯出错时抛出异常
+	 */
+	public void acceptProtocol(Request req) throws IOException {
+		Object version = req.getAttr(Request.PROTOCOL_Version);
+		int v = 0;
+		if (isBinaryEnabled && version instanceof Integer) {
+			v = Math.min(((Integer)version).intValue(), PROTOCOL_VERSION);
+		}
+		
+		oos.writeUnshared(new Response(v));
+		oos.flush();
+		isBinary = v > 0;
+	}
+
+	/**
+	 * 返回是否使用二进制协议
+	 * @return boolean
+	 */
+	public boolean isBinary() {
+		return isBinary;
 	}
 
 	/**
-	 * ӵ׽ֵַ
-	 * @param endpoint ׽ֵַ
-	 * @param timeout ӳʱʱ䣬λ
-	 * @throws Exception 쳣
+	 * 连接到套接字地址
+	 * @param endpoint 套接字地址
+	 * @param timeout 连接超时的时间，单位毫秒
+	 * @throws Exception 连接异常
 	 */
 	public void connect(SocketAddress endpoint,
             int timeout) throws Exception{
@@ -94,60 +189,175 @@ public class SocketData{
 	}
 	
 	/**
-	 * ȡԭʼ׽
-	 * @return ׽ֶ
+	 * 获取原始套接字
+	 * @return 套接字对象
 	 */
 	public Socket getSocket(){
 		return socket;
 	}
 	
 	/**
-	 * дһ
-	 * @param obj ݶ
-	 * @throws IOException д쳣
+	 * 写出一个对象
+	 * @param obj 数据对象
+	 * @throws IOException 写出错异常
 	 */
 	public void write(Object obj)
 			throws IOException {
-		oos.writeUnshared(obj);
-		oos.flush();
-		oos.reset();//дڴ棬ڴ
+		writeObject(obj);
+	}
+	
+	// 写出一个对象，返回请求号，多个线程同时写时请求号和写出的顺序一致
+	private int writeObject(Object obj) throws IOException {
+		if (isBinary) {
+			byte []bytes = BinaryProtocol.encode(obj); // 编码时不占用写锁
+			synchronized(this) {
+				// 服务端的应答带回请求号
+				int id = isServer ? replyId : ++nextId;
+				writeFrame(id, bytes);
+				return id;
+			}
+		} else {
+			synchronized(this) {
+				if (!isServer) {
+					++nextId;
+				}
+				
+				oos.writeUnshared(obj);
+				oos.flush();
+				oos.reset();//写完后清空内存，避免内存溢出
+				return nextId;
+			}
+		}
+	}
+
+	// 写出一帧，需在写锁内调用
+	private void writeFrame(int id, byte []bytes) throws IOException {
+		dos.writeInt(bytes.length);
+		dos.writeInt(id);
+		dos.write(bytes);
+		dos.flush();
+	}
+	
+	// 读入一个对象，返回[请求号, 对象]
+	private Object[] readFrame() throws IOException, ClassNotFoundException {
+		if (isBinary) {
+			int len = dis.readInt();
+			int id = dis.readInt();
+			byte []bytes = new byte[len];
+			dis.readFully(bytes);
+			return new Object[] {id, BinaryProtocol.decode(bytes, len)};
+		} else {
+			Object obj = ois.readUnshared();
+			return new Object[] {++receiveId, obj};
+		}
+	}
+
+	/**
+	 * 发送请求，不等待应答，同一个连接上可以连续发送多个请求，再用receive按请求号取应答
+	 * @param obj 请求对象
+	 * @return 请求号
+	 * @throws IOException 写出错异常
+	 */
+	public int send(Object obj) throws IOException {
+		return writeObject(obj);
+	}
+
+	/**
+	 * 取指定请求的应答，先收到的其它请求的应答会被暂存
+	 * @param id send返回的请求号
+	 * @return 应答对象
+	 * @throws IOException IO异常
+	 * @throws ClassNotFoundException 类异常
+	 */
+	public Object receive(int id) throws IOException, ClassNotFoundException {
+		synchronized(readLock) {
+			Iterator<Object[]> itr = pendings.iterator();
+			while (itr.hasNext()) {
+				Object []frame = itr.next();
+				if (((Integer)frame[0]).intValue() == id) {
+					itr.remove();
+					return frame[1];
+				}
+			}
+			
+			while (true) {
+				Object []frame = readFrame();
+				if (((Integer)frame[0]).intValue() == id) {
+					return frame[1];
+				}
+				
+				pendings.add(frame);
+			}
+		}
 	}
 
 	/**
-	 * 
-	 * @return ݶ
-	 * @throws IOException IO쳣
-	 * @throws ClassNotFoundException 쳣
+	 * 读出对象数据
+	 * @return 数据对象
+	 * @throws IOException IO异常
+	 * @throws ClassNotFoundException 类异常
 	 */
 	public Object read()
 			throws IOException, ClassNotFoundException {
-		Object obj = ois.readUnshared();
-		return obj;
+		synchronized(readLock) {
+			Object []frame = pendings.isEmpty() ? readFrame() : pendings.removeFirst();
+			replyId = ((Integer)frame[0]).intValue();
+			return frame[1];
+		}
 	}
 
 	/**
-	 * 鿴׽Ƿر
-	 * @return رʱtrue򷵻false
+	 * 等待对方的数据到达，不取走数据，用于区分连接是否在收到应答的任何数据之前就被对方关闭了
+	 * @return 有暂存的应答或者收到了数据时返回true，没收到任何数据连接就结束了返回false
+	 * @throws IOException IO异常
+	 */
+	public boolean waitData() throws IOException {
+		synchronized(readLock) {
+			if (!pendings.isEmpty()) {
+				return true;
+			}
+			
+			bis.mark(1);
+			int b = bis.read();
+			bis.reset();
+			return b != -1;
+		}
+	}
+	
+	/**
+	 * 返回已收到还没读取的字节数，包括暂存的应答
+	 * @return 字节数
+	 * @throws IOException IO异常
+	 */
+	public int available() throws IOException {
+		synchronized(readLock) {
+			return pendings.isEmpty() ? dis.available() : 1;
+		}
+	}
+	
+	/**
+	 * 查看套接字是否关闭
+	 * @return 关闭时返回true，否则返回false
 	 */
 	public boolean isClosed(){
 		return socket.isClosed();
 	}
 	
 	/**
-	 * ˹رʱø÷ͷ׽
-	 * @throws Exception ر쳣
+	 * 服务器端关闭时调用该方法，释放套接字
+	 * @throws Exception 关闭异常
 	 */
 	public void serverClose() throws Exception{
 		socket.close();
 	}
 
 	/**
-	 * ͻ˹رʱø÷ͷ׽
-	 * ͻҪȷnull֪ͨ˳߳
-	 * @throws Exception ر쳣
+	 * 客户端关闭时调用该方法，释放套接字
+	 * 客户端需要先发送null命令通知服务端退出线程
+	 * @throws Exception 关闭异常
 	 */
 	public void clientClose() throws Exception{
-		write(null);//ص̶߳˵socketͨѶѾж
+		write(null);//关掉服务线程端的socket后，通讯流已经中断了
 		serverClose();
 	}
 }
\ No newline at end of file
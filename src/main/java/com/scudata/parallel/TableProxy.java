@@ -5,7 +5,7 @@ import com.scudata.dm.Context;
 import com.scudata.dm.Table;
 
 /**
- * ڵ
+ * 节点机序表代理
  * @author WangXiaoJun
  *
  */
@@ -33,19 +33,19 @@ import com.scudata.util.CellSetUtil;
 import com.scudata.util.DatabaseUtil;
 
 /**
- * ÿһҵĹ
+ * 每一个作业的管理
  * 
- * ÿҵҲΪ񣩲α궼¼ϣα󣬿ʼʱʱ 
- * αÿһηʹ̣ƳʱҲһfetchܳʱ䣬ǲʱģ
- * αʹ¿ʼʱ һ˶α󣬴ʱѾʼʱ
- * dfxڰͷα꣬ںαȻܳʱ 
+ * 每个作业（也称为任务）产生的游标都记录在任务上，游标产生后，开始计时超时 
+ * 游标的每一次访问过程，都不计超时。也即一次fetch过程如果可能超过时间，是不计时的；
+ * 游标访问过后，重新开始计时； 如果一个任务产生了多个游标后，此时已经开始计时，
+ * 如果dfx在挨个串行整理头几个游标，排在后面的游标仍然可能超时 任务
  * 
  * @author Joancy
  *
  */
 public class Task extends Job implements IResource, ITask {
 	Object dfxName;
-	boolean isDfxFile = false;//סǰdfxԴǴļʹû
+	boolean isDfxFile = false;//记住当前dfx的来源，如果是从文件来，则使用缓存
 	ArrayList args;
 	String spaceId;
 	boolean isProcessCaller = false;
@@ -53,9 +53,9 @@ public class Task extends Job implements IResource, ITask {
 	CellLocation accumulateLocation;
 	CellLocation currentLocation;
 
-	// ̶ֽ˿ںţҵʱػֱӽҵõֻľֽ
+	// 分进程端口号，可重算作业时，主控机直接将作业布置到分机的具体分进程
 //	int subPort = 0;
-	int processTaskId = 0;// ̵
+	int processTaskId = 0;// 主进程的任务编号
 
 	int taskId = -1;
 	long callTime = -1;
@@ -67,17 +67,17 @@ public class Task extends Job implements IResource, ITask {
 	transient Response res = null;
 
 	private long lastAccessTime = -1;
-	private static List connectedDsNames = null;// IDEִУIDEøñUnitContextConfigBeanȡ
+	private static List connectedDsNames = null;// 如果是IDE端执行，由IDE设置该变量；否则从UnitContext中ConfigBean中取
 	private String cancelCause = null;
 
 	MessageManager mm = ParallelMessage.get();
 
 	/**
-	 * һ
-	 * @param dfxName Ҫִеdfx
-	 * @param argList ӦĲ
-	 * @param taskId 
-	 * @param spaceId ռ
+	 * 构造一个任务
+	 * @param dfxName 要执行的dfx
+	 * @param argList 对应的参数
+	 * @param taskId 任务号
+	 * @param spaceId 空间号
 	 */
 	public Task(Object dfxName, List argList, int taskId, String spaceId) {
 		this.dfxName = dfxName;
@@ -89,13 +89,13 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * һ
-	 * @param dfxName Ҫִеdfx
-	 * @param argList б
-	 * @param taskId 
-	 * @param spaceId ռ
-	 * @param isProcessCaller Ƿ
-	 * @param reduce reduceʽ
+	 * 构造一个任务
+	 * @param dfxName 要执行的dfx
+	 * @param argList 参数列表
+	 * @param taskId 任务号
+	 * @param spaceId 空间号
+	 * @param isProcessCaller 是否主进程
+	 * @param reduce reduce表达式
 	 */
 	public Task(Object dfxName, List argList, int taskId, String spaceId,
 			boolean isProcessCaller, Object reduce,CellLocation accumulateLocation,
@@ -109,7 +109,7 @@ public class Task extends Job implements IResource, ITask {
 
 
 	/**
-	 * ̵
+	 * 设置主进程的任务号
 	 * @param id
 	 */
 	public void setProcessTaskId(int id) {
@@ -117,29 +117,29 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * ѾӺԴ 
-	 * @param dsNames Դб
+	 * 设置已经连接后的数据源名称 
+	 * @param dsNames 数据源名称列表
 	 */
 	public static void setConnectedDsNames(List dsNames) {
 		connectedDsNames = dsNames;
 	}
 
 	/**
-	 * ķˢ
+	 * 任务代理的访问刷新
 	 */
 	public void access() {
 		lastAccessTime = System.currentTimeMillis();
 	}
 
 	/**
-	 * ôķˢ
+	 * 重置代理的访问刷新
 	 */
 	public void resetAccess() {
 		lastAccessTime = -1;
 	}
 
 	/**
-	 * ٵǰ
+	 * 销毁当前对象
 	 */
 	public void destroy() {
 		if (rcpm != null) {
@@ -151,15 +151,15 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * ǰʱ
+	 * 计算前计时打卡
 	 */
 	private void beforeExecute() {
 		callTime = System.currentTimeMillis();
 	}
 
 	/**
-	 * ȡα
-	 * @return α
+	 * 取游标管理器
+	 * @return 游标代理管理器
 	 */
 	public RemoteCursorProxyManager getCursorManager() {
 		if (rcpm == null) {
@@ -169,17 +169,17 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * жϵǰҵǷ״̬
-	 * @return ״̬true򷵻false
+	 * 判断当前作业是否运行状态
+	 * @return 是运行状态返回true，否则返回false
 	 */
 	public boolean isRunning() {
 		return tasker != null;
 	}
 
 	/**
-	 * תΪαʶ
-	 * @param result 
-	 * @return αӿ
+	 * 将计算结果转换为游标访问对象
+	 * @param result 计算结果
+	 * @return 游标接口
 	 */
 	public static ICursor toCursor(Object result) {
 		if (result instanceof Sequence) {
@@ -212,9 +212,9 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * ÷ODBCִdfxҪIntergration
-	 * @return α
-	 * @throws Exception ʱ׳쳣
+	 * 该方法用于ODBC服务器执行dfx，需要检查Intergration
+	 * @return 计算结果的游标组
+	 * @throws Exception 计算出错时抛出异常
 	 */
 	public ICursor[] executeOdbc() throws Exception {
 		Object obj = doExecute(true);
@@ -240,8 +240,8 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * ִм
-	 * @return ɺӦ
+	 * 执行计算
+	 * @return 计算完成后的响应
 	 */
 	public Response execute() {
 		Object obj = doExecute(false);
@@ -254,8 +254,8 @@ public class Task extends Job implements IResource, ITask {
 		return res;
 	}
 
-	// ȡǴDatastoreʱͨ쳣ĿǰCanceledExceptionǲҪжϱ˵ġ
-	// DataStoreȡҪжϱˡ
+	// 当取消是从Datastore来时，返回普通异常。目前的CanceledException是不需要中断别人的。
+	// 但是DataStore发出的取消，需要中断别人。
 	private Exception getCancelException() {
 		if (cancelCause != null) {
 			MessageManager mm = ParallelMessage.get();
@@ -269,8 +269,8 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * ׼ǰĻ 
-	 * @return 
+	 * 准备计算前的上下文环境 
+	 * @return 计算上下文
 	 */
 	public static Context prepareEnv() throws Exception{
 		Context context = new Context();
@@ -310,7 +310,7 @@ public class Task extends Job implements IResource, ITask {
 		}
 
 		if (ParallelCaller.isScript(dfxName)) {
-			// еĲ̶"arg"ͷ
+			// 语句中的参数，固定以"arg"开头
 			if (argsVal != null && argsVal.length > 0) {
 				for (int i = 0; i < argsVal.length; i++) {
 					context.setParamValue("arg" + (i + 1), argsVal[i]);
@@ -388,7 +388,7 @@ public class Task extends Job implements IResource, ITask {
 			}
 			return result;
 		} catch (Throwable x) {
-			// ̵ĴϢӡѾӽ̴ӡ
+			// 主进程的错误信息不打印，已经在子进程打印过了
 			if (!isProcessCaller) {
 				Logger.debug(this, x);
 			}
@@ -432,7 +432,7 @@ public class Task extends Job implements IResource, ITask {
 				tasker = null;
 			}
 
-			if (rcpm == null) { // αʱҪȴα궼رʱɾ
+			if (rcpm == null) { // 计算结果有游标时，要等待游标都关闭时，才删除任务
 				TaskManager.delTask(taskId);
 			}
 			access();
@@ -440,17 +440,17 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * ȡǰҵ
-	 * @return ȡӦ
+	 * 取消当前作业
+	 * @return 取消结果的响应
 	 */
 	public Response cancel() {
 		return cancel(null);
 	}
 
 	/**
-	 * ȡǰҵ
-	 * @param reason ȡϢдԭ
-	 * @return ȡӦ
+	 * 取消当前作业
+	 * @param reason 将取消信息写入原因
+	 * @return 取消结果的响应
 	 */
 	public Response cancel(String reason) {
 		cancelCause = reason;
@@ -476,56 +476,56 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * ȡdfx
-	 * @return 
+	 * 获取dfx名称
+	 * @return 名称
 	 */
 	public String getDfxName() {
 		return ParallelCaller.dfxDelegate(dfxName);
 	}
 
 	/**
-	 * ȡб
-	 * @return б
+	 * 获取参数列表
+	 * @return 参数列表
 	 */
 	public List getArgList() {
 		return args;
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取任务编号
+	 * @return 任务编号
 	 */
 	public int getTaskID() {
 		return taskId;
 	}
 
 	/**
-	 * ȡʼʱ
-	 * @return ʼʱ(ȱʡ-1)
+	 * 取任务开始计算的时刻
+	 * @return 任务开始时刻(缺省-1)
 	 */
 	public long getCallTime() {
 		return callTime;
 	}
 
 	/**
-	 * ʼʱ
-	 * @param callTime ʱ
+	 * 设置任务开始计算的时刻
+	 * @param callTime 时刻
 	 */
 	public void setCallTime(long callTime) {
 		this.callTime = callTime;
 	}
 
 	/**
-	 * ȡɺʱ
-	 * @return ʱ(ȱʡ-1)
+	 * 取任务计算完成后的时刻
+	 * @return 任务完成时刻(缺省-1)
 	 */
 	public long getFinishTime() {
 		return finishTime;
 	}
 
 	/**
-	 * ʱʱ
-	 * @param finishTime ʱ
+	 * 设置任务计算完成时的时刻
+	 * @param finishTime 完成时刻
 	 */
 	public void setFinishTime(long finishTime) {
 		this.finishTime = finishTime;
@@ -549,13 +549,13 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * ķʳʱ
+	 * 检查代理对象的访问超时
 	 */
 	public boolean checkTimeOut(int timeOut) {
 		if (lastAccessTime < 0) {
-			return false; // ûܼ
+			return false; // 还没计算的任务不能检查过期
 		}
-		// 룬timeOutλΪ
+		// 换算成秒，timeOut单位为秒
 		long unvisit = (System.currentTimeMillis() - lastAccessTime) / 1000;
 		if (unvisit > timeOut) {
 			Logger.info(this + " is timeout.");
@@ -566,7 +566,7 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * toStringʵ
+	 * 任务对象的toString实现
 	 */
 	public String toString() {
 		StringBuffer sb = new StringBuffer();
@@ -585,12 +585,12 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * ʼ
+	 * 开始运行
 	 */
 	public void run() {
 		long l1 = System.currentTimeMillis();
-//		ҵ㼶ProcessCallerӵһҵתΪҵ߳
-//		㼶runһProcessCallerϢ
+//		作业调度有两个层级，ProcessCaller接到一堆作业后，再逐个转化为本机单个作业线程
+//		两个层级都会走这个run方法，第一层的ProcessCaller的消息忽略
 		if (!(isProcessCaller && args.size()<2)) {
 			Logger.debug(mm.getMessage("Task.taskBegin", this));
 		}
@@ -604,8 +604,8 @@ public class Task extends Job implements IResource, ITask {
 	}
 
 	/**
-	 * жϵǰǷĿǰʱȡ˷ֽ̣ǳ߼Ȼ̽ӵҵηָֽ̣ʱķֽȻԼ
-	 * ڼعʱҪ˵Ϊʱ̵ҵֽһҵ
+	 * 判断当前任务是否主进程任务，目前暂时取消了分进程，但是程序逻辑仍然是主进程接到作业，再依次分给分进程（此时的分进程仍然是自己）
+	 * 因此在监控管理时，需要滤掉主进程任务，因为此时主进程的作业跟分进程是一样的作业。
 	 * @return
 	 */
 	public boolean isProcessCaller() {
@@ -620,8 +620,8 @@ public class Task extends Job implements IResource, ITask {
 		this.currentLocation = currentLoc;
 	}
 	/**
-	 * ȡɵӦ
-	 * @return Ӧ
+	 * 获取计算完成的响应
+	 * @return 响应对象
 	 */
 	public Response getResponse() {
 		return res;
@@ -630,7 +630,7 @@ public class Task extends Job implements IResource, ITask {
 	boolean isClosed = false;
 
 	/**
-	 * رյǰҵͷԴ
+	 * 关闭当前作业，释放相关资源
 	 */
 	public void close() {
 		if (!isClosed) {
@@ -8,7 +8,7 @@ import com.scudata.server.unit.UnitServer;
 import com.scudata.thread.ThreadPool;
 
 /**
- * ҵ(ɡδɡȡҵ)Ҫڼ
+ * 作业管理器(包含所有完成、未完成、取消的作业)，主要用于监控
  * 
  * @author Joancy
  *
@@ -16,7 +16,7 @@ import com.scudata.thread.ThreadPool;
 public class TaskManager {
 	static ArrayList<ITask> tasks = new ArrayList<ITask>();
 
-//	ֻ
+//	分机最多能跑最大任务数
 	static ThreadPool pool=null;
 	public static ThreadPool getPool(){
 		if(pool==null){
@@ -28,9 +28,9 @@ public class TaskManager {
 	}
 	
 	/**
-	 * ִм
-	 * @param req 
-	 * @return Ӧ
+	 * 执行计算请求
+	 * @param req 请求
+	 * @return 响应
 	 */
 	public static Response execute(Request req) {
 		int cmd = req.getAction();
@@ -90,16 +90,16 @@ public class TaskManager {
 	}
 
 	/**
-	 * 
-	 * @param t 
+	 * 增加任务
+	 * @param t 任务
 	 */
 	public synchronized static void addTask(ITask t) {
 		tasks.add(t);
 	}
 
 	/**
-	 * ɾ
-	 * @param taskId 
+	 * 删除任务
+	 * @param taskId 任务号
 	 */
 	public synchronized static void delTask(int taskId) {
 		for (int i = 0; i < tasks.size(); i++) {
@@ -112,10 +112,10 @@ public class TaskManager {
 	}
 
 	/**
-	 * ȡ
-	 * @param taskId  
-	 * @return 
-	 * @throws Exception ʱ׳쳣
+	 * 根据任务号取出任务对象
+	 * @param taskId 任务号 
+	 * @return 恩物对象
+	 * @throws Exception 出错时抛出异常
 	 */
 	public synchronized static ITask getTask(int taskId) throws Exception {
 		for (int i = 0; i < tasks.size(); i++) {
@@ -128,8 +128,8 @@ public class TaskManager {
 	}
 
 	/**
-	 * ȡбĸ
-	 * @return б
+	 * 取任务列表的复制
+	 * @return 任务列表
 	 */
 	public synchronized static List<ITask> getTaskList() {
 		ArrayList<ITask> al = new ArrayList<ITask>();
@@ -138,7 +138,7 @@ public class TaskManager {
 	}
 
 	/**
-	 * ʱ
+	 * 检查代理超时
 	 */
 	public synchronized static void checkTimeOut(int proxyTimeOut) {
 		for (int i = tasks.size() - 1; i >= 0; i--) {
@@ -6,8 +6,8 @@ import com.scudata.common.*;
 import com.scudata.dm.*;
 
 /**
- * ʱļ
- * ʱ(System.currentTimeMillis()-proxy.lastAccessTime()>service.getTimeout)Ķرղɾ
+ * 临时文件监视器
+ * 超时(System.currentTimeMillis()-proxy.lastAccessTime()>service.getTimeout)的对象关闭并删除
  * @author Joancy
  *
  */
@@ -17,9 +17,9 @@ public class TempFileMonitor extends Thread {
 	int interval = 5;
 
 	/**
-	 * ʱļ
-	 * @param timeOut ʱʱ
-	 * @param interval 鳬ʱ
+	 * 创建临时文件管理器
+	 * @param timeOut 超时时间
+	 * @param interval 检查超时间隔
 	 */
 	public TempFileMonitor(int timeOut, int interval){
 		this.setName(toString());
@@ -28,21 +28,21 @@ public class TempFileMonitor extends Thread {
 	}
 	
 	/**
-	 * ֹͣ߳
+	 * 停止工作线程
 	 */
 	public void stopThread() {
 		stop = true;
 	}
 	
 	/**
-	 * ʵtoStringı
+	 * 实现toString文本描述
 	 */
 	public String toString(){
 		return "TempFileMonitor";
 	}
 	
 	/**
-	 * ʱ
+	 * 检查对象超时
 	 * @param tmpDirectory 
 	 * @param timeOut
 	 */
@@ -67,10 +67,10 @@ public class TempFileMonitor extends Thread {
 	}
 
 	/**
-	 * еǰ߳
+	 * 运行当前线程
 	 */
 	public void run() {
-		// timeOutΪ0ʱ鳬ʱ
+		// timeOut为0时，不检查超时
 		if (interval == 0 || timeOut == 0) {
 			return;
 		}
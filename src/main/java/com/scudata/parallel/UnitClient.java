@@ -17,7 +17,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
 
 /**
- * ֻķʿͻ
+ * 分机的访问客户端
  * @author Joancy
  *
  */
@@ -28,13 +28,13 @@ public class UnitClient implements Serializable {
 	int port = 0;
 
 	boolean isDispatchUC = false;
-	// ȡ
+	// 取消长
 	transient SocketData socketData = null;
 
 	/**
-	 * ݵַͶ˿ڹһֻͻ
-	 * @param host IP
-	 * @param port ˿ں
+	 * 根据地址和端口构造一个分机客户端
+	 * @param host 主机IP
+	 * @param port 端口号
 	 */
 	public UnitClient(String host, int port) {
 		this.host = host;
@@ -42,8 +42,8 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * (磺  host:ip)ֻͻ
-	 * @param add 
+	 * 根据主机描述串(形如：  host:ip)构造分机客户端
+	 * @param add 主机描述串
 	 */
 	public UnitClient(String add) {
 		if (add != null) {
@@ -56,41 +56,41 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * ÷ֻΪطĿͻ
-	 * ע⣺ֻͨgetClientgetRandomClientȡUCΪtrue
-	 * ΪtrueʾucڶάģͣʱٶУͷŵС
+	 * 设置分机为可重分配的客户端
+	 * 注意：只有通过getClient或者getRandomClient方法获取的UC才允许为true，
+	 * 为true表示该uc是在队列里面维持生产消费者模型，分配时减少队列，计算完成再释放到队列。
 	 */
 	public void setDispatchable() {
 		isDispatchUC = true;
 	}
 
 	/**
-	 * жϷֻǷطҵ
-	 * @return true򷵻false
+	 * 判断分机是否可重分配作业
+	 * @return 允许返回true，否则返回false
 	 */
 	public boolean isDispatchable() {
 		return isDispatchUC;
 	}
 
 	/**
-	 * ȡIP
-	 * @return IP
+	 * 获取主机IP
+	 * @return IP串
 	 */
 	public String getHost() {
 		return host;
 	}
 
 	/**
-	 * ȡ˿ں
-	 * @return ˿ں
+	 * 获取主机端口号
+	 * @return 端口号
 	 */
 	public int getPort() {
 		return port;
 	}
 
 	/**
-	 * ¡һֻͻ
-	 * @return ¡ķֻͻ
+	 * 克隆一个分机客户端
+	 * @return 克隆后的分机客户端
 	 */
 	public UnitClient clone() {
 		UnitClient uc = new UnitClient(host, port);
@@ -98,18 +98,18 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * жֻͻǷ
-	 * @param nodeHost һֻIP
-	 * @param nodePort һֻ˿ں
-	 * @return ͬʱtrue򷵻false
+	 * 判断两个分机客户端是否相等
+	 * @param nodeHost 另一个分机IP
+	 * @param nodePort 另一个分机端口号
+	 * @return 相同时返回true，否则返回false
 	 */
 	public boolean equals(String nodeHost, int nodePort) {
 		return host.equalsIgnoreCase(nodeHost) && port == nodePort;
 	}
 
 	/**
-	 * жϵǰֻǷѾɷ
-	 * @return ɷʷtrue򷵻false
+	 * 判断当前分机是否已经启动，可访问
+	 * @return 可访问返回true，否则返回false
 	 */
 	public boolean isReachable() {
 		try {
@@ -123,19 +123,19 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * 鵱ǰֻǷ
-	 * @return ʱtrue򷵻false
+	 * 检查当前分机是否存活
+	 * @return 存活时返回true，否则返回false
 	 */
 	public boolean isAlive() {
 		return isAlive(null);
 	}
 
 	/**
-	 * жϵǰֻǷλڱ
-	 * @return Ǳػtrue򷵻false
+	 * 判断当前分机是否位于本机
+	 * @return 是本地机返回true，否则返回false
 	 */
 	public boolean isEqualToLocal() {
-		// callx֧ :, ""дʹñ߳
+		// callx支持 :, ""写法代表使用本地线程
 		if (host == null)
 			return true;
 
@@ -145,9 +145,9 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * жϷֻǷ쳣쳣ԭдԭ򻺳reason
-	 * @param reason ԭ򻺳
-	 * @return ʱtrue򷵻false
+	 * 判断分机是否存活，如果异常，将异常原因写入原因缓冲reason
+	 * @param reason 原因缓冲
+	 * @return 存活时返回true，否则返回false
 	 */
 	public boolean isAlive(StringBuffer reason) {
 		if (isEqualToLocal()) {
@@ -180,45 +180,46 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * ӵֻ
-	 * @throws Exception ӳʱ׳쳣
+	 * 连接到分机
+	 * @throws Exception 连接出错时抛出异常
 	 */
 	public void connect() throws Exception {
 		if (!isEqualToLocal()) {
 			socketData = newSocketData();
+			socketData.negotiate();
 		}
 	}
 
 	/**
-	 * жǷѾӵֻ
-	 * @return Ӻú󷵻true򷵻false
+	 * 判断是否已经连接到分机
+	 * @return 连接好后返回true，否则返回false
 	 */
 	public boolean isConnected() {
-		return !isClosed() || isEqualToLocal();// ߳Ҳ״̬
+		return !isClosed() || isEqualToLocal();// 本机线程也算联机状态
 	}
 
 	/**
-	 * ֻдһ
-	 * @param obj ݶ
-	 * @throws Exception дʱ׳쳣
+	 * 往分机写出一个对象
+	 * @param obj 数据对象
+	 * @throws Exception 写出错时抛出异常
 	 */
 	public void write(Object obj) throws Exception {
 		socketData.write(obj);
 	}
 
 	/**
-	 * ӷֻһ
-	 * @return 
-	 * @throws Exception ʱ׳쳣
+	 * 从分机读入一个对象
+	 * @return 对象数据
+	 * @throws Exception 读出错时抛出异常
 	 */
 	public Object read() throws Exception {
 		return socketData.read();
 	}
 
 	/**
-	 * һµͨѶ׽
-	 * @return ͨѶ׽
-	 * @throws Exception ʱ׳쳣
+	 * 创建一个新的通讯套接字
+	 * @return 通讯套接字
+	 * @throws Exception 出错时抛出异常
 	 */
 	public SocketData newSocketData() throws Exception {
 		Socket s = new Socket();
@@ -230,9 +231,9 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * ȡǰ
-	 * @param taskId 
-	 * @param reason ȡԭ
+	 * 取消当前任务
+	 * @param taskId 任务编号
+	 * @param reason 取消原因
 	 */
 	public void cancel(Integer taskId, String reason) {
 		Request req = new Request(Request.DFX_CANCEL);
@@ -246,7 +247,7 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * ֹͣ
+	 * 停止服务器
 	 */
 	public void shutDown() {
 		Request req = new Request(Request.SERVER_SHUTDOWN);
@@ -254,11 +255,13 @@ public class UnitClient implements Serializable {
 			sendByNewSocket(req);
 		} catch (Exception x) {
 		}
+		
+		UnitConnectionPool.clear(this);
 	}
 
 	/**
-	 * гǰֻҵ
-	 * @return ҵ
+	 * 列出当前分机的最大作业数
+	 * @return 最大作业数
 	 */
 	public int getUnitMaxNum() {
 		if (isEqualToLocal()) {
@@ -274,9 +277,9 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * ȡֻJڴ
-	 * @param J 
-	 * @return ڴ
+	 * 获取分机上任务J的内存区号
+	 * @param J 任务名称
+	 * @return 内存区号
 	 */
 	public Integer getAreaNo(String J) {
 		Request req = new Request(Request.SERVER_GETAREANO);
@@ -368,9 +371,9 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * ȡռڷֻϵreduce
-	 * @param spaceId ռ
-	 * @return reduceļ
+	 * 获取任务空间号在分机上的reduce结果
+	 * @param spaceId 任务空间号
+	 * @return reduce后的计算结果
 	 * @throws Exception
 	 */
 	public Object getReduceResult(String spaceId) throws Exception {
@@ -384,7 +387,7 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * ܷ񣬱ʱܵ connect(); canAcceptTask(); close();
+	 * 能否接受任务，保持连接时，才能调用 connect(); canAcceptTask(); close();
 	 * 
 	 * @param count
 	 *            Integer
@@ -429,7 +432,7 @@ public class UnitClient implements Serializable {
 	}
 
 	/**
-	 * ȡָֻеĿ
+	 * 获取指定分机上正在运行的任务数目
 	 * 
 	 * @return
 	 */
@@ -447,7 +450,20 @@ public class UnitClient implements Serializable {
 		}
 	}
 
+	/**
+	 * 发送一次性的请求并等待应答，使用连接池时从池中借用分机的空闲连接
+	 * 文件和分区请求会在连接上直接传输数据，不能用此方法发送
+	 * @param req 请求
+	 * @return 应答
+	 * @throws Exception 出错时抛出异常
+	 */
 	public Response sendByNewSocket(Request req) throws Exception {
+		if (UnitConnectionPool.isEnabled()) {
+			Response res = UnitConnectionPool.send(this, req);
+			res.setFromHost(this.toString());
+			return res;
+		}
+		
 		SocketData tmp = null;
 		try {
 			tmp = newSocketData();
@@ -462,13 +478,38 @@ public class UnitClient implements Serializable {
 		}
 	}
 
+	/**
+	 * 发送请求并等待应答，按请求号取应答，同一连接上其它线程post的请求的应答不会被取走
+	 * @param req 请求
+	 * @return 应答
+	 * @throws Exception 出错时抛出异常
+	 */
 	public Response send(Request req) throws Exception {
 		// Logger.debug(req);
+		return take(post(req));
+	}
+
+	/**
+	 * 发送请求，不等待应答，可以在同一连接上连续发送多个请求
+	 * @param req 请求
+	 * @return 请求号，用于取应答
+	 * @throws Exception 出错时抛出异常
+	 */
+	public int post(Request req) throws Exception {
 		if (socketData == null) {
 			connect();
 		}
-		socketData.write(req);
-		Response res = (Response) socketData.read();
+		return socketData.send(req);
+	}
+
+	/**
+	 * 取post发出的请求的应答
+	 * @param id 请求号
+	 * @return 应答
+	 * @throws Exception 出错时抛出异常
+	 */
+	public Response take(int id) throws Exception {
+		Response res = (Response) socketData.receive(id);
 		res.setFromHost(this.toString());
 		return res;
 	}
@@ -547,14 +588,14 @@ public class UnitClient implements Serializable {
 			return false;
 		}
 		UnitClient otherUc = (UnitClient) other;
-		if (otherUc.getHost() == null) {// Ǳʱ
+		if (otherUc.getHost() == null) {// 都是本机时
 			return (host == null);
 		}
 		return otherUc.getHost().equalsIgnoreCase(host)
 				&& otherUc.getPort() == port;
 	}
 
-	// JDBCӿڲ
+	// JDBC函数接口部分
 	public int JDBCConnect(String spaceId) throws Exception {
 		Request req = new Request(Request.JDBC_CONNECT);
 		req.setAttr(Request.CONNECT_spaceID, spaceId);
@@ -705,7 +746,7 @@ public class UnitClient implements Serializable {
 
 	public static String getHostPath(String host) {
 		String path = host.replaceAll("::", ".");
-		path = path.replaceAll(":", ".");// ipv6ðŻɵ
+		path = path.replaceAll(":", ".");// 将ipv6的冒号换成点
 		return path;
 	}
 
@@ -6,38 +6,38 @@ import java.util.HashMap;
 public class UnitCommand implements Serializable {
 	private static final long serialVersionUID = 559160970976735495L;
 
-	//public static final int GET_UNITS = 0; // ȡֻн
-	public static final int CREATE_GT = 1; // Ⱥ
-	public static final int GET_TABLEMETADATA = 2; // ڷֻϴԶ̴
-	public static final int GET_GT_DISTRIBUTE = 3; // ȡֲ
-	public static final int CLOSE_GT = 4; // رռȺ
-	public static final int OPEN_GT = 5; // 򿪼Ⱥ
-	public static final int LIST_FILE_PARTS = 6; // гڵЩֱļ
+	//public static final int GET_UNITS = 0; // 取分机的所有进程
+	public static final int CREATE_GT = 1; // 创建集群组表
+	public static final int GET_TABLEMETADATA = 2; // 在分机上创建附表远程代理
+	public static final int GET_GT_DISTRIBUTE = 3; // 取组表分布
+	public static final int CLOSE_GT = 4; // 关闭集群组表
+	public static final int OPEN_GT = 5; // 打开集群组表
+	public static final int LIST_FILE_PARTS = 6; // 列出节点机上有哪些分表文件
 	
-	public static final int MEMORY_GT = 10; // ڴ滯
-	public static final int MEMORY_CLUSTERCURSOR = 11; // ڴ滯Ⱥα
-	public static final int MEMORY_TABLE = 12; // ԶɼȺڱ
+	public static final int MEMORY_GT = 10; // 内存化组表
+	public static final int MEMORY_CLUSTERCURSOR = 11; // 内存化集群游标
+	public static final int MEMORY_TABLE = 12; // 把远程序表变成集群内表
 	
-	public static final int CREATE_MT_INDEX = 13; // Զڱ
-	public static final int GET_MT_ROW = 14; // ڱ¼
-	public static final int DUP_CLUSTER_MT = 15; // ȺڱTƴɱڱ
-	public static final int DUP_LOCAL_MT = 16; // ѱڱƳɼȺдڱ
-	public static final int GET_MT_ROWS = 17; // ȡڱ¼
-	public static final int MT_ADD_OPERATION = 18; // ΪȺڱswitch
-	public static final int CLOSE_MT = 19; // ͷżȺڱ
+	public static final int CREATE_MT_INDEX = 13; // 远程内表建索引
+	public static final int GET_MT_ROW = 14; // 访问内表记录
+	public static final int DUP_CLUSTER_MT = 15; // 将集群内表T拼成本地内表
+	public static final int DUP_LOCAL_MT = 16; // 把本地内表复制成集群复写内表
+	public static final int GET_MT_ROWS = 17; // 取多条内表记录
+	public static final int MT_ADD_OPERATION = 18; // 为集群内表附件运算switch
+	public static final int CLOSE_MT = 19; // 释放集群内表
 	
-	public static final int CREATE_BINARY_CURSOR = 20; //Զ̼ļα
-	public static final int CREATE_GT_CURSOR = 21; // Զ̸α꣬Ǹдʱseg=-1
-	public static final int CREATE_SYNC_GT_CURSOR = 22; // ֶͬμȺα
-	public static final int CREATE_GT_ICURSOR = 23; // α
-	public static final int CREATE_MT_CURSOR = 24; // ɼȺڱȺα
+	public static final int CREATE_BINARY_CURSOR = 20; //创建远程集文件游标
+	public static final int CREATE_GT_CURSOR = 21; // 创建远程附表游标，非复写表时seg=-1
+	public static final int CREATE_SYNC_GT_CURSOR = 22; // 创建同步分段集群游标
+	public static final int CREATE_GT_ICURSOR = 23; // 创建索引游标
+	public static final int CREATE_MT_CURSOR = 24; // 由集群内表创建集群游标
 	
-	public static final int CURSOR_ADD_OPERATION = 30; // Ϊα긽
-	public static final int CURSOR_FETCH = 31; // αȡ
-	public static final int CURSOR_SKIP = 32; // α
+	public static final int CURSOR_ADD_OPERATION = 30; // 为游标附件运算
+	public static final int CURSOR_FETCH = 31; // 游标取数
+	public static final int CURSOR_SKIP = 32; // 游标跳过数据
 	public static final int CURSOR_CLOSE = 33;
 	public static final int CURSOR_GET_MINVALUES = 34;
-	public static final int CURSOR_TO_REMOTE = 35; // ѼȺαɶԶα
+	public static final int CURSOR_TO_REMOTE = 35; // 把集群游标变成多个远程游标
 	
 	public static final int GROUPS = 40;
 	public static final int JOINX = 41;
@@ -45,17 +45,17 @@ public class UnitCommand implements Serializable {
 	public static final int GROUPX = 43;
 	public static final int TOTAL = 44;
 	
-	public static final int CHANNEL_CS = 70; // ɼȺα괴Ⱥܵ
-	public static final int CHANNEL_CH = 71; // ɼȺܵȺܵ
-	public static final int CHANNEL_ADD_OPERATION = 72; // Ϊܵ
+	public static final int CHANNEL_CS = 70; // 由集群游标创建集群管道
+	public static final int CHANNEL_CH = 71; // 由集群管道创建集群管道
+	public static final int CHANNEL_ADD_OPERATION = 72; // 为管道附件运算
 	public static final int CHANNEL_GROUPS = 73;
 	public static final int CHANNEL_GROUPX = 74;
 	public static final int CHANNEL_SORTX = 75;
 	public static final int CHANNEL_FETCH = 76;
 	public static final int CHANNEL_RESULT = 77;
 	
-	public static final int GT_APPEND_BY_CSID = 80; // ֲͬαappend
-	public static final int GT_APPEND_BY_DATA = 81; // ɱαappendάֵӦݵڵappend
+	public static final int GT_APPEND_BY_CSID = 80; // 由同分布游标做append
+	public static final int GT_APPEND_BY_DATA = 81; // 由本地游标做append，根据维值传送相应的数据到节点机做append
 	public static final int GT_FIRST_KEY_VALUE = 82;
 	public static final int GT_UPDATE = 83;
 	public static final int GT_DELETE = 84;
@@ -64,11 +64,11 @@ public class UnitCommand implements Serializable {
 	public static final int GT_RESET = 87;
 	public static final int GT_GET_PKEY = 88;
 	public static final int GT_NEWS = 89;
-	public static final int GT_CGROUPS = 90;//ѯ
+	public static final int GT_CGROUPS = 90;//立方体查询
 	public static final int GT_GET_COL_NAMES = 91;
-	public static final int GT_GET_STRUCT = 92;//ṹ
+	public static final int GT_GET_STRUCT = 92;//获得组表结构
 	
-	public static final int PSEUDO_CURSOR = 101;//α
+	public static final int PSEUDO_CURSOR = 101;//虚表建立游标
 	public static final int PSEUDO_ADD_COLNAME = 102;
 	public static final int PSEUDO_ADD_OPERATION = 103;
 	public static final int PSEUDO_CLONE = 104;
@@ -78,25 +78,25 @@ public class UnitCommand implements Serializable {
 	public static final int PSEUDO_SET_PATHCOUNT = 108;
 	public static final int PSEUDO_MEMORY = 109;
 	
-	//Զʱļ
+	//创建远程临时文件
 	public static final int CREATE_TMPFILE = 200;
 
-	//ļlocalFileʱԶʱļ
+	//将本机文件localFile传到即时创建的远程临时文件
 	public static final int CREATE_TMPFILE_FROM = 201;
 	
-	//׼Сֵ¼дӦֻԶʱļظֻӦʱļ
-	//RemoteFileֱдԶ̣дٴ
+	//根据首键及各段最小值将各记录写到相应分机的远程临时文件，返回各分机相对应的临时文件名，
+	//用RemoteFile直接写远程？还是先写到本地再传？
 	//attr: int proxyId, String firstKey, Object[] segMinValues, String[] hosts, int[] ports
-	//ݸֻʱļreduceαproxyId
+	//根据各分机传来的临时文件进行reduce，返回游标proxyId
 	public static final int SHUFFLE = 202;
 	
-	//мkeys=null
+	//产生中间表，keys=null产生简表，否则组表
 	//attr: int csProxyId, String[] keys
-	//return: int 򸽱proxyId
+	//return: int 简表或附表proxyId
 	public static final int INTERM = 205;
 	
 	
-	//private String jobSpaceId; // attributes
+	//private String jobSpaceId; // 放attributes里
 	private int command;
 	private HashMap<String, Object> attributes = new HashMap<String, Object>();
 	
@@ -26,19 +26,19 @@ import com.scudata.parallel.XmlUtil;
 import com.scudata.resources.ParallelMessage;
 
 /**
- * ֻ
+ * 分机配置类
  * @author Joancy
  *
  */
 public class UnitConfig extends ConfigWriter {
 	// version 3
-	private int tempTimeOut = 12; // ʱļʱ䣬Ϊλ0ΪλСʱ
-	private int proxyTimeOut = 12; // ļԼαĹʱ䣬Ϊλ0ΪλСʱ
-	private int interval = 30 * 60; // ʱļڵʱ0Ϊڡλ
+	private int tempTimeOut = 12; // 临时文件存活时间，秒为单位，0为永生，单位都是小时。
+	private int proxyTimeOut = 12; // 文件以及游标代理的过期时间，秒为单位，0为永生，单位都是小时。
+	private int interval = 30 * 60; // 检查代理或者临时文件过期的时间间隔，0为不检查过期。单位秒
 	boolean autoStart=false;
 	private List<Host> hosts = null;
 	
-//	ͻ˰
+//	客户端白名单
 	private boolean checkClient = false;
 	private List<String> enabledClientsStart = null;
 	private List<String> enabledClientsEnd = null;
@@ -46,18 +46,18 @@ public class UnitConfig extends ConfigWriter {
 	MessageManager mm = ParallelMessage.get();
 	
 	/**
-	 * ļϢ
-	 * @param is ļ
-	 * @throws Exception سʱ׳쳣
+	 * 从配置文件流加载配置信息
+	 * @param is 配置文件流
+	 * @throws Exception 加载出错时抛出异常
 	 */
 	public void load(InputStream is) throws Exception {
 		load(is, true);
 	}
 	
 	/**
-	 * ļֽݼϢ
-	 * @param buf ļֽ
-	 * @throws Exception س׳쳣
+	 * 从配置文件的字节数据加载配置信息
+	 * @param buf 配置文件字节数据
+	 * @throws Exception 加载出错抛出异常
 	 */
 	public void load(byte[] buf) throws Exception {
 		ByteArrayInputStream bais = new ByteArrayInputStream(buf);
@@ -66,11 +66,11 @@ public class UnitConfig extends ConfigWriter {
 	}
 	
 	/**
-	 * ipportHost󣬲Hostάhosts
-	 * @param hosts hosts
-	 * @param ip IPַ
-	 * @param port ˿ں
-	 * @return ipportHost
+	 * 根据ip和port产生Host对象，并将Host对象维护到hosts队列
+	 * @param hosts hosts队列
+	 * @param ip IP地址
+	 * @param port 端口号
+	 * @return 由ip跟port产生Host对象
 	 */
 	public static Host getHost(List<Host> hosts, String ip, int port) {
 		Host h = null;
@@ -86,10 +86,10 @@ public class UnitConfig extends ConfigWriter {
 	}
 
 	/**
-	 * ļ
-	 * @param is ļ
-	 * @param showDebug ǷõĵϢ
-	 * @throws Exception ļʽ׳쳣
+	 * 加载配置文件输入流
+	 * @param is 配置文件流
+	 * @param showDebug 是否打出加载配置的调试信息
+	 * @throws Exception 文件格式错误是抛出异常
 	 */
 	public void load(InputStream is, boolean showDebug) throws Exception {
 		DocumentBuilderFactory docBuilderFactory = DocumentBuilderFactory
@@ -113,7 +113,7 @@ public class UnitConfig extends ConfigWriter {
 		}
 
 		// version 3
-		// Server 
+		// Server 配置
 		Node subNode = XmlUtil.findSonNode(root, "tempTimeout");
 		String buf = XmlUtil.getNodeValue(subNode);
 		if (StringUtils.isValidString(buf)) {
@@ -130,7 +130,7 @@ public class UnitConfig extends ConfigWriter {
 		if (StringUtils.isValidString(buf)) {
 			int t = Integer.parseInt(buf);
 			if (t > 0)
-				interval = t;// òȷʱʹȱʡ
+				interval = t;// 设置不正确时，使用缺省检查间隔
 		}
 
 		subNode = XmlUtil.findSonNode(root, "autostart");
@@ -200,9 +200,9 @@ public class UnitConfig extends ConfigWriter {
 	}
 
 	/**
-	 * ļתΪֽ
-	 * @return ֽ
-	 * @throws Exception תʱ׳쳣
+	 * 将配置文件转换为字节数据
+	 * @return 字节数据
+	 * @throws Exception 转换出错时抛出异常
 	 */
 	public byte[] toFileBytes() throws Exception{
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -211,16 +211,16 @@ public class UnitConfig extends ConfigWriter {
 	}
 	
 	/**
-	 * ļϢ浽out
-	 * @param out 
-	 * @throws SAXException дʱ׳쳣
+	 * 将配置文件信息保存到输出流out
+	 * @param out 输出流
+	 * @throws SAXException 写出错时抛出异常
 	 */
 	public void save(OutputStream out) throws SAXException {
 		Result resultxml = new StreamResult(out);
 		handler.setResult(resultxml);
 		level = 0;
 		handler.startDocument();
-		// øڵͰ汾
+		// 设置根节点和版本
 		handler.startElement("", "", "SERVER", getAttributesImpl(new String[] {
 				ConfigConsts.VERSION, "3" }));
 		level = 1;
@@ -264,39 +264,39 @@ public class UnitConfig extends ConfigWriter {
 		}
 		
 		handler.endElement("", "", "SERVER");
-		// ĵ,ͬ
+		// 文档结束,同步到磁盘
 		handler.endDocument();
 	}
 
 	/**
-	 * ȡʱļʱʱ䣬λͳһΪСʱ
-	 * ͬgetTempTimeOutHourڼ
-	 * @return ʱʱ
+	 * 获取临时文件超时时间，单位统一为小时
+	 * 方法同getTempTimeOutHour，保留用于兼容
+	 * @return 超时时间
 	 */
 	public int getTempTimeOut() {
 		return tempTimeOut;
 	}
 
 	/**
-	 * ȡʱļʱʱ䣬λСʱ
-	 * @return ʱʱ
+	 * 获取临时文件超时时间，单位小时
+	 * @return 超时时间
 	 */
 	public int getTempTimeOutHour() {
 		return tempTimeOut;
 	}
 
 	/**
-	 * ʱļʱʱ
-	 * @param tempTimeOut ʱ
+	 * 设置临时文件超时时间
+	 * @param tempTimeOut 时间
 	 */
 	public void setTempTimeOut(int tempTimeOut) {
 		this.tempTimeOut = tempTimeOut;
 	}
 
 	/**
-	 * Сʱóʱʱ䣬ͬsetTempTimeOut
-	 * ڴ
-	 * @param tempTimeOutHour ʱ
+	 * 按小时设置超时时间，方法同setTempTimeOut
+	 * 保留用于代码兼容
+	 * @param tempTimeOutHour 时间
 	 */
 	public void setTempTimeOutHour(int tempTimeOutHour) {
 		this.tempTimeOut = tempTimeOutHour;
@@ -313,23 +313,23 @@ public class UnitConfig extends ConfigWriter {
 		autoStart = as;
 	}
 	/**
-	 * ȡʱ䣨λΪСʱ
-	 * @return ʱʱ
+	 * 取代理对象生存时间（单位为小时）
+	 * @return 代理超时时间
 	 */
 	public int getProxyTimeOutHour() {
 		return proxyTimeOut;
 	}
 
 	/**
-	 * ôʱʱ
-	 * @param proxyTimeOut ʱʱ
+	 * 设置代理超时时间
+	 * @param proxyTimeOut 超时时间
 	 */
 	public void setProxyTimeOut(int proxyTimeOut) {
 		this.proxyTimeOut = proxyTimeOut;
 	}
 
 	/**
- * ͬsetProxyTimeOut
+ * 方法同setProxyTimeOut
  * @param proxyTimeOutHour
  */
 	public void setProxyTimeOutHour(int proxyTimeOutHour) {
@@ -337,39 +337,39 @@ public class UnitConfig extends ConfigWriter {
 	}
 
 	/**
-	 * Ƿʱʱ(λΪ)
-	 * @return ʱ
+	 * 检查是否超时的时间间隔(单位为秒)
+	 * @return 时间间隔
 	 */
 	public int getInterval() {
 		return interval;
 	}
 
 	/**
-	 * ü鳬ʱʱ
-	 * @param interval ʱ
+	 * 设置检查超时的时间间隔
+	 * @param interval 时间间隔
 	 */
 	public void setInterval(int interval) {
 		this.interval = interval;
 	}
 
 	/**
-	 * гǰֻµн̵ַ
-	 * @return б
+	 * 列出当前分机下的所有进程地址
+	 * @return 进程主机列表
 	 */
 	public List<Host> getHosts() {
 		return hosts;
 	}
 
 	/**
-	 * ýб
-	 * @param hosts б
+	 * 设置进程主机列表
+	 * @param hosts 进程主机列表
 	 */
 	public void setHosts(List<Host> hosts) {
 		this.hosts = hosts;
 	}
 
 	/**
-	 * ǷУͻ
+	 * 是否校验客户端
 	 * @return
 	 */
 	public boolean isCheckClients() {
@@ -398,7 +398,7 @@ public class UnitConfig extends ConfigWriter {
 
 
 	public static class Host {
-//		ʺҵȱʡΪCPU,ܱ
+//		适合作业数缺省为CPU个数,可能被废弃
 		int preferredTaskNum = Runtime.getRuntime().availableProcessors();
 		
 		int maxTaskNum = preferredTaskNum*2;
@@ -0,0 +1,316 @@
+package com.scudata.parallel;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import com.scudata.common.Logger;
+
+/**
+ * 分机连接池，按分机保留空闲的长连接，所有UnitClient共用
+ * 一次性的请求从池中借出连接，收到应答后归还，避免每次都建立连接、创建对象流
+ * 空闲超时的连接由后台线程关闭，复用的连接在分机执行请求之前就出错时换新连接重发一次
+ * @author RunQian
+ *
+ */
+public class UnitConnectionPool {
+	private static boolean isEnabled = true; // 是否使用连接池
+	private static int maxIdle = 8; // 每个分机最多保留的空闲连接数
+	private static long idleTimeout = 60000; // 连接空闲超过此时间后关闭，单位毫秒
+
+	// 分机（host:port）对应的空闲连接，最近归还的在前面
+	private static HashMap<String, LinkedList<Connection>> idleMap = new HashMap<String, LinkedList<Connection>>();
+	private static int idleCount = 0; // 空闲连接总数
+	private static Thread evictor; // 关闭空闲超时连接的线程
+
+	// 连接在写请求时出错，或者还没收到应答的任何数据就被对方关闭，分机没有执行请求，可以重发
+	private static class ResendException extends IOException {
+		private static final long serialVersionUID = 1L;
+
+		ResendException(String msg, Throwable cause) {
+			super(msg, cause);
+		}
+	}
+
+	// 池中的连接
+	private static class Connection {
+		SocketData socketData;
+		long lastUseTime; // 最后一次归还的时间
+
+		Connection(SocketData socketData) {
+			this.socketData = socketData;
+		}
+	}
+
+	/**
+	 * 设置是否使用连接池，不使用时每个请求都新建连接
+	 * @param b true：使用，false：不使用
+	 */
+	public static void setEnabled(boolean b) {
+		isEnabled = b;
+		if (!b) {
+			clear();
+		}
+	}
+
+	/**
+	 * 返回是否使用连接池
+	 * @return boolean
+	 */
+	public static boolean isEnabled() {
+		return isEnabled;
+	}
+
+	/**
+	 * 设置每个分机最多保留的空闲连接数
+	 * @param n 连接数
+	 */
+	public static void setMaxIdle(int n) {
+		maxIdle = n;
+	}
+
+	/**
+	 * 设置连接的最大空闲时间，超时后关闭
+	 * @param time 时间，单位毫秒
+	 */
+	public static void setIdleTimeout(long time) {
+		idleTimeout = time;
+	}
+
+	/**
+	 * 用池中的连接发送请求并等待应答，完成后连接归还到池中
+	 * @param uc 分机客户端
+	 * @param req 请求
+	 * @return 应答
+	 * @throws Exception 通讯出错时抛出异常
+	 */
+	public static Response send(UnitClient uc, Request req) throws Exception {
+		String key = uc.toString();
+		Connection conn = borrow(key);
+		if (conn != null) {
+			try {
+				return exchange(key, conn, req);
+			} catch (ResendException e) {
+				// 空闲的连接可能已被分机关闭，比如分机重启过，关闭此分机的其它空闲连接后用新连接重发一次
+				// 读应答时的其它错误不重发，分机可能已经执行过请求，像取数、跳过这样的请求不能执行两次
+				Logger.debug("Resend " + req + " to " + key + " by new connection: " + e.getMessage());
+				clear(uc);
+			}
+		}
+
+		conn = new Connection(create(uc));
+		return exchange(key, conn, req);
+	}
+
+	// 发送请求取应答，成功后归还连接，出错时关闭连接
+	// 写请求出错或者没收到应答的任何数据连接就结束时抛出ResendException
+	private static Response exchange(String key, Connection conn, Request req) throws Exception {
+		SocketData sd = conn.socketData;
+		boolean isOk = false;
+		try {
+			try {
+				sd.write(req);
+			} catch (IOException e) {
+				throw new ResendException(e.getMessage(), e);
+			}
+			
+			if (!sd.waitData()) {
+				throw new ResendException("Connection closed before response", null);
+			}
+			
+			Response res = (Response)sd.read();
+			isOk = true;
+			return res;
+		} finally {
+			if (isOk) {
+				giveBack(key, conn);
+			} else {
+				PerfMonitor.connectionBroken();
+				close(conn);
+			}
+		}
+	}
+
+	// 新建连接并协商通讯协议
+	private static SocketData create(UnitClient uc) throws Exception {
+		SocketData sd = uc.newSocketData();
+		try {
+			sd.negotiate();
+		} catch (IOException e) {
+			sd.serverClose();
+			throw e;
+		}
+
+		PerfMonitor.connectionCreated();
+		return sd;
+	}
+
+	// 借出分机的空闲连接，没有时返回空
+	private static Connection borrow(String key) {
+		if (!isEnabled) {
+			return null;
+		}
+
+		synchronized(idleMap) {
+			LinkedList<Connection> list = idleMap.get(key);
+			while (list != null && list.size() > 0) {
+				Connection conn = list.removeFirst();
+				idleCount--;
+				// 只能查出本地关闭的连接，被分机关闭的连接在发送请求后才能发现
+				if (conn.socketData.isClosed()) {
+					PerfMonitor.connectionEvicted(1);
+				} else {
+					PerfMonitor.connectionReused();
+					return conn;
+				}
+			}
+
+			return null;
+		}
+	}
+
+	// 归还连接，池满时关闭
+	private static void giveBack(String key, Connection conn) {
+		if (isEnabled && !conn.socketData.isClosed()) {
+			conn.lastUseTime = System.currentTimeMillis();
+			synchronized(idleMap) {
+				LinkedList<Connection> list = idleMap.get(key);
+				if (list == null) {
+					list = new LinkedList<Connection>();
+					idleMap.put(key, list);
+				}
+
+				if (list.size() < maxIdle) {
+					list.addFirst(conn);
+					idleCount++;
+					PerfMonitor.setIdleConnections(idleCount);
+					startEvictor();
+					return;
+				}
+			}
+		}
+
+		PerfMonitor.connectionEvicted(1);
+		close(conn);
+	}
+
+	private static void close(Connection conn) {
+		try {
+			if (conn.socketData.isClosed()) {
+				return;
+			}
+
+			conn.socketData.clientClose();
+		} catch (Exception e) {
+			try {
+				conn.socketData.serverClose();
+			} catch (Exception x) {
+			}
+		}
+	}
+
+	/**
+	 * 关闭指定分机的空闲连接，分机停止服务后调用
+	 * @param uc 分机客户端
+	 */
+	public static void clear(UnitClient uc) {
+		LinkedList<Connection> list;
+		synchronized(idleMap) {
+			list = idleMap.remove(uc.toString());
+			if (list == null) {
+				return;
+			}
+
+			idleCount -= list.size();
+			PerfMonitor.setIdleConnections(idleCount);
+		}
+
+		PerfMonitor.connectionEvicted(list.size());
+		for (Connection conn : list) {
+			close(conn);
+		}
+	}
+
+	/**
+	 * 关闭所有的空闲连接
+	 */
+	public static void clear() {
+		LinkedList<Connection> all = new LinkedList<Connection>();
+		synchronized(idleMap) {
+			for (LinkedList<Connection> list : idleMap.values()) {
+				all.addAll(list);
+			}
+
+			idleMap.clear();
+			idleCount = 0;
+			PerfMonitor.setIdleConnections(0);
+		}
+
+		PerfMonitor.connectionEvicted(all.size());
+		for (Connection conn : all) {
+			close(conn);
+		}
+	}
+
+	// 关闭空闲超时的连接，返回是否还有空闲连接
+	private static boolean evict() {
+		LinkedList<Connection> timeouts = new LinkedList<Connection>();
+		boolean hasIdle;
+		synchronized(idleMap) {
+			long time = System.currentTimeMillis() - idleTimeout;
+			Iterator<LinkedList<Connection>> itr = idleMap.values().iterator();
+			while (itr.hasNext()) {
+				LinkedList<Connection> list = itr.next();
+
+				// 最近归还的在前面，从后面开始关闭
+				while (list.size() > 0 && list.getLast().lastUseTime < time) {
+					timeouts.add(list.removeLast());
+				}
+
+				if (list.size() == 0) {
+					itr.remove();
+				}
+			}
+
+			idleCount -= timeouts.size();
+			PerfMonitor.setIdleConnections(idleCount);
+			hasIdle = idleCount > 0;
+			if (!hasIdle) {
+				evictor = null;
+			}
+		}
+
+		if (timeouts.size() > 0) {
+			PerfMonitor.connectionEvicted(timeouts.size());
+			for (Connection conn : timeouts) {
+				close(conn);
+			}
+
+			Logger.debug(PerfMonitor.getConnectionInfo());
+		}
+
+		return hasIdle;
+	}
+
+	// 有空闲连接时启动后台线程检查超时，需在同步块内调用
+	private static void startEvictor() {
+		if (evictor != null) {
+			return;
+		}
+
+		evictor = new Thread("UnitConnectionPool") {
+			public void run() {
+				do {
+					try {
+						sleep(Math.max(idleTimeout / 2, 1000));
+					} catch (InterruptedException e) {
+					}
+				} while (evict());
+			}
+		};
+
+		evictor.setDaemon(true);
+		evictor.start();
+	}
+}
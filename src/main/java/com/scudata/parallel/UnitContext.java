@@ -22,7 +22,7 @@ import com.scudata.ide.spl.ServerConsole;
 import com.scudata.resources.ParallelMessage;
 
 /**
- * ڵ
+ * 节点机服务器上下文
  * @author Joancy
  *
  */
@@ -31,8 +31,8 @@ public class UnitContext {
 
 	HostManager hostManager = HostManager.instance();
 
-	int tempTimeOut = 0; // ʱļʱ䣬СʱΪλ0Ϊ鳬ʱ
-	private int interval = 5, proxyTimeOut = 0; // ʱļڵʱ0ΪڡļԼαĹʱ
+	int tempTimeOut = 0; // 临时文件存活时间，小时为单位，0为不检查超时
+	private int interval = 5, proxyTimeOut = 0; // 检查代理或者临时文件过期的时间间隔，0为不检查过期。文件以及游标代理的过期时间
 	private RaqsoftConfig raqsoftConfig = null;
 	private boolean checkClient = false,autoStart=false;
 	private List<String> enabledClientsStart = null;
@@ -41,16 +41,16 @@ public class UnitContext {
 	private String logFile;
 
 	/**
-	 * ȡӦϢ
-	 * @return Ϣ
+	 * 取应用配置信息
+	 * @return 配置信息
 	 */
 	public RaqsoftConfig getRaqsoftConfig() {
 		return raqsoftConfig;
 	}
 
 	/**
-	 * Ϣ
-	 * @param rc Ӧ
+	 * 设置引用配置信息
+	 * @param rc 应用配置
 	 * @param needCheckIP
 	 */
 	public void setRaqsoftConfig(RaqsoftConfig rc) {
@@ -58,8 +58,8 @@ public class UnitContext {
 	}
 
 	/**
-	 * ȡ־ļ
-	 * @return ־ļ
+	 * 取日志文件
+	 * @return 日志文件名
 	 */
 	public String getLogFile(){
 		return logFile;
@@ -70,8 +70,8 @@ public class UnitContext {
 	}
 
 	/**
-	 * ǷԶ
-	 * @return Զtrue򷵻false
+	 * 是否自动启动
+	 * @return 自动启动返回true，否则返回false
 	 */
 	public boolean isAutoStart() {
 		return autoStart;
@@ -115,18 +115,18 @@ public class UnitContext {
 	}
 
 	/**
-	 * ڵļĬΪconfigĿ¼£·Ȼstart.homeµľ·
+	 * 节点机文件默认为config目录下；先找类路径，然后找start.home下的绝对路径
 	 * 
 	 * @param relativePath
-	 *            String ļ
-	 * @throws Exception ʱ׳쳣
-	 * @return InputStream 
+	 *            String 相对文件名
+	 * @throws Exception 出错时抛出异常
+	 * @return InputStream 输入流
 	 */
 	public static InputStream getUnitInputStream(String relativePath)
 			throws Exception {
-		relativePath = "config/" + relativePath;// ļconfigĿ¼
+		relativePath = "config/" + relativePath;// 配置文件都得在config目录下
 		InputStream inputStream = null;
-		// ֻþ·µģطˣ㲻嵽õĵ
+		// 只能用绝对路径下的，地方多了，都搞不清到底用的哪的
 		if (inputStream == null) {
 			String serverPath = GM.getAbsolutePath(relativePath);
 
@@ -150,9 +150,9 @@ public class UnitContext {
 	}
 
 	/**
-	 * гзֻ
-	 * @return ֻϢб
-	 * @throws Exception ʱ׳쳣
+	 * 列出所有分机配置
+	 * @return 分机信息列表
+	 * @throws Exception 出错时抛出异常
 	 */
 	public static ArrayList<UnitContext.UnitInfo> listNodes() throws Exception {
 		ArrayList<UnitContext.UnitInfo> uis = new ArrayList<UnitContext.UnitInfo>();
@@ -169,10 +169,10 @@ public class UnitContext {
 	}
 
 	/**
-	 * ָĵַڵ
-	 * @param specifyHost ָIP
-	 * @param specifyPort ָ˿
-	 * @throws Exception ʱ׳쳣
+	 * 根据指定的地址构造节点机上下文
+	 * @param specifyHost 指定IP
+	 * @param specifyPort 指定端口
+	 * @throws Exception 构造出错时抛出异常
 	 */
 	public UnitContext(String specifyHost, int specifyPort) throws Exception {
 		UnitConfig uc = getUnitConfig();
@@ -189,20 +189,20 @@ public class UnitContext {
 			ucHost = hosts.get(i);
 			String tmpHost = ucHost.getIp();
 			if (tmpHost.equalsIgnoreCase("localhost")) {
-				// ֧localhostдʱҪתΪȱʡıip4127.0.0.1ûװʱʹ127.0.0.1
+				// 支持localhost写法时，要将它转换为缺省的本机ip4，而不是127.0.0.1，根本没安装网卡时才使用127.0.0.1
 				tmpHost = UnitContext.getDefaultHost();
 			}
 
 			int p;
 			if (specifyHost != null) {
-				if (specifyHost.equalsIgnoreCase("localhost")) {// ͬ
+				if (specifyHost.equalsIgnoreCase("localhost")) {// 同上
 					specifyHost = UnitContext.getDefaultHost();
 				}
 
 				if (!tmpHost.equals(specifyHost)) {
 					continue;
 				} else {
-					if (specifyPort == 0) {// ָ˿Ϊ0ʱdockerֻdockerĶ˿ΪԶ˿ںţûָ
+					if (specifyPort == 0) {// 指定端口为0时，用于docker启动分机，docker的端口为虚拟自动端口号，没法事先指定
 						p = ucHost.getPort();
 					} else {
 						if (specifyPort == ucHost.getPort()) {
@@ -216,7 +216,7 @@ public class UnitContext {
 				p = ucHost.getPort();
 			}
 
-			if (tmpHost.equalsIgnoreCase("localhost")) {// ֧localhostдʱҪתΪȱʡhosṯֽȽ
+			if (tmpHost.equalsIgnoreCase("localhost")) {// 支持localhost写法时，要将它转换为缺省host，来跟分进程比较
 				String defIP = UnitContext.getDefaultHost();
 				Logger.info("Using IP:" + defIP + " instead of:" + tmpHost
 						+ ".");
@@ -250,7 +250,7 @@ public class UnitContext {
 		FileHandler lfh = Logger.newFileHandler(logFile);
 		Logger.addFileHandler(lfh);
 
-		// ̶ڵʱĿ¼ start.home/nodes/[ip_port]/tempĿ¼
+		// 固定节点机的临时目录到： start.home/nodes/[ip_port]/temp目录下
 		String path = "nodes/" + UnitClient.getHostPath(host) + "_" + port + "/temp";
 		f = new File(home, path);
 		if (!f.exists()) {
@@ -264,14 +264,14 @@ public class UnitContext {
 		enabledClientsStart = uc.getEnabledClientsStart();
 		enabledClientsEnd = uc.getEnabledClientsEnd();
 
-		// ڵýڵIP滻config.xmlصlocalHost
+		// 启动节点机后，用节点机的IP替换掉从config.xml加载的localHost
 		hostManager.setHost(host);
 		hostManager.setPort(port);
 
 		hostManager.setMaxTaskNum(ucHost.getMaxTaskNum());
 		hostManager.setPreferredTaskNum(ucHost.getPreferredTaskNum());
 
-		// Server 
+		// Server 配置
 		tempTimeOut = uc.getTempTimeOut();
 		if (tempTimeOut > 0) {
 			Logger.debug(ParallelMessage.get().getMessage("UnitContext.temptimeout", tempTimeOut));
@@ -279,7 +279,7 @@ public class UnitContext {
 
 		int t = uc.getInterval();
 		if (t > 0)
-			interval = t;// òȷʱʹȱʡ
+			interval = t;// 设置不正确时，使用缺省检查间隔
 
 		proxyTimeOut = uc.getProxyTimeOut();
 	}
@@ -299,7 +299,7 @@ public class UnitContext {
 			Logger.addFileHandler(lfh);
 		}
 
-		// Server 
+		// Server 配置
 		if(StringUtils.isValidString(ssc.tempTimeOut)) {
 			tempTimeOut = Integer.parseInt(ssc.tempTimeOut);
 			if (tempTimeOut > 0) {
@@ -324,8 +324,8 @@ public class UnitContext {
 	}
 
 	/**
-	 * ȡȱʡ
-	 * @return 
+	 * 获取缺省主机描述串
+	 * @return 主机描述
 	 */
 	public static String getDefaultHost() {
 		String[] allHosts = AppUtil.getLocalIps();
@@ -333,7 +333,7 @@ public class UnitContext {
 		if (allHosts.length > 0) {
 			for(int i=0;i<allHosts.length;i++){
 				tmpHost = allHosts[i];
-				if(tmpHost.indexOf(':')>0)continue;//ȱʡѡIP6
+				if(tmpHost.indexOf(':')>0)continue;//缺省不选IP6
 				if(!tmpHost.equals("127.0.0.1")) break;
 			}
 		}
@@ -341,15 +341,15 @@ public class UnitContext {
 	}
 
 	/**
-	 * ȡʱļĳʱ
-	 * @return ʱ
+	 * 取临时文件的超时
+	 * @return 时间
 	 */
 	public int getTimeOut() {
 		return tempTimeOut;
 	}
 
 	/**
-	 * ͬgetTimeOut
+	 * 同getTimeOut
 	 * @return
 	 */
 	public int getTimeOutHour() {
@@ -357,23 +357,23 @@ public class UnitContext {
 	}
 
 	/**
-	 * ȡ鳬ʱʱ
-	 * @return ʱ
+	 * 取检查超时的时间间隔
+	 * @return 时间间隔
 	 */
 	public int getInterval() {
 		return interval;
 	}
 
 	/**
-	 * ȡʱ
-	 * @return ʱʱ
+	 * 取代理超时
+	 * @return 代理超时时间
 	 */
 	public int getProxyTimeOut() {
 		return proxyTimeOut;
 	}
 
 	/**
-	 * ͬgetProxyTimeOut
+	 * 同getProxyTimeOut
 	 * @return
 	 */
 	public int getProxyTimeOutHour() {
@@ -381,30 +381,30 @@ public class UnitContext {
 	}
 
 	/**
-	 * ȡ
-	 * @return 
+	 * 取本地主机描述
+	 * @return 主机描述
 	 */
 	public String getLocalHost() {
 		return hostManager.getHost();
 	}
 
 	/**
-	 * ȡض˿ں
-	 * @return ˿ں
+	 * 取本地端口号
+	 * @return 端口号
 	 */
 	public int getLocalPort() {
 		return hostManager.getPort();
-	} // ڵ˿
+	} // 节点机端口
 
 	/**
-	 * ϢʵtoString
+	 * 用主机信息实现toString
 	 */
 	public String toString() {
 		return hostManager.toString();
 	}
 
 	/**
-	 * ֻϢ
+	 * 分机信息
 	 * @author Joancy
 	 *
 	 */
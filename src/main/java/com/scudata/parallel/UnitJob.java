@@ -3,7 +3,7 @@ package com.scudata.parallel;
 import com.scudata.thread.Job;
 
 /**
- * ڶ̸߳ڵ
+ * 用于多线程给节点机发送任务
  * @author WangXiaoJun
  *
  */
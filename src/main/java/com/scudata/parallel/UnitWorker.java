@@ -1,30 +1,33 @@
 package com.scudata.parallel;
 
+import java.io.IOException;
+
 import com.scudata.common.MessageManager;
 import com.scudata.dm.Env;
 import com.scudata.dm.ZoneManager;
 import com.scudata.resources.ParallelMessage;
+import com.scudata.server.ConnectionDispatcher;
 import com.scudata.server.unit.UnitServer;
 
 /**
- * ڵҵ߳
+ * 节点机作业线程
  * 
  * @author Joancy
  *
  */
-public class UnitWorker extends Thread {
+public class UnitWorker extends Thread implements ConnectionDispatcher.Handler {
 	SocketData socketData;
 	
-//	socketĿͻǷͨ˰֤
+//	来自于socket的客户端是否通过了白名单验证
 	boolean errorCheck = false;
 	String clientIP=null;
 	
 	private volatile boolean stop = false;
 
 	/**
-	 * һҵ߳
-	 * @param tg ߳
-	 * @param name ߳
+	 * 构造一个作业线程
+	 * @param tg 线程组
+	 * @param name 线程名称
 	 */
 	public UnitWorker(ThreadGroup tg, String name){
 		super(tg,name);
@@ -36,86 +39,19 @@ public class UnitWorker extends Thread {
 	}
 	
 	/**
-	 * ׽ͨѶ
-	 * @param sd ׽
+	 * 设置数据套接字通讯对象
+	 * @param sd 数据套接字
 	 */
 	public void setSocket(SocketData sd){
 		this.socketData = sd;
 	}
 
 	/**
-	 * ߳
+	 * 线程运行
 	 */
 	public void run() {
 		try {
-			Response response = null;
-			while (!stop) {
-				Object obj = socketData.read();
-
-				if (obj == null || !(obj instanceof Request)) {
-					break;
-				}
-				Request req = (Request) obj;
-				switch (req.getActionType()) {
-				case Request.TYPE_DFX:
-					setName("UnitWorker[execute dfx]:"+req);
-					if(errorCheck){
-						response = new Response();
-						MessageManager mm = ParallelMessage.get();
-						Exception error = new Exception(mm.getMessage("UnitWorker.errorcheck",clientIP));
-						response.setException(error);
-						break;
-					}else{
-						response = TaskManager.execute(req);
-					}
-					break;
-				case Request.TYPE_CURSOR:
-					setName("UnitWorker[serve cursor]:"+req);
-					int taskId = ((Number) req.getAttr(Request.METHOD_TaskId)).intValue();
-					try {
-						RemoteCursorProxyManager rcpm;
-						if(taskId==-1){
-//							Ⱥαûţʹþ̬α
-							rcpm = RemoteCursorProxyManager.getInstance();
-						}else{
-							ITask t = TaskManager.getTask(taskId);
-							rcpm = t.getCursorManager();
-						}
-						response = rcpm.execute(req);
-					} catch (Exception x) {
-						response = new Response();
-						response.setException(x);
-					}
-					break;
-				case Request.TYPE_FILE:
-					setName("UnitWorker[serve file]:"+req);
-					//Ϊ߶ȡļٶȲڶļĹвrequest,responseʴʽҪ
-					//socketDataдļݣҪsocketDataӦ·partitionͬ
-					response = RemoteFileProxyManager.execute(req, socketData);
-					break;
-				case Request.TYPE_PARTITION:
-					setName("UnitWorker[serve partition]:"+req);
-					response = PartitionManager.execute(req, socketData);
-					break;
-				case Request.TYPE_ZONE:
-					setName("UnitWorker[ZONE]:"+req);
-					response = ZoneManager.execute(req);
-					break;
-				case Request.TYPE_UNITCOMMAND:
-					setName("UnitWorker[UnitCommand]:"+req);
-					UnitCommand uc = (UnitCommand)req.getAttr(Request.EXE_Object);
-					response = uc.execute();
-					break;
-				case Request.TYPE_JDBC:
-					setName("UnitWorker[JDBC]:"+req);
-					response = com.scudata.server.unit.JdbcManager.execute(req);
-					break;
-				default: // Type Server
-					setName("UnitWorker[execute cmd]:"+req);
-					response = UnitServer.getInstance().execute(req);
-				}
-
-				socketData.write(response);
+			while (!stop && serveRequest()) {
 			}
 		} catch (Exception x) {
 			x.printStackTrace();
@@ -126,16 +62,129 @@ public class UnitWorker extends Thread {
 			}
 		}
 	}
+	
+	/**
+	 * 处理已经到达的请求，至少处理一个，用于分派器方式的服务
+	 * @return true：继续等待下一个请求，false：连接已结束
+	 * @throws Exception
+	 */
+	public boolean serve() throws Exception {
+		do {
+			if (stop || !serveRequest()) {
+				return false;
+			}
+		} while (hasInput());
+		
+		return true;
+	}
+	
+	/**
+	 * 返回是否有已收到还没处理的请求数据
+	 * @return boolean
+	 * @throws IOException
+	 */
+	public boolean hasInput() throws IOException {
+		return socketData.available() > 0;
+	}
+	
+	/**
+	 * 关闭连接
+	 */
+	public void close() {
+		try {
+			socketData.serverClose();
+		} catch (Exception x) {
+		}
+	}
+	
+	// 读取并处理一个请求，返回false表示客户端结束了连接
+	private boolean serveRequest() throws Exception {
+		Object obj = socketData.read();
+		if (obj == null || !(obj instanceof Request)) {
+			return false;
+		}
+		
+		Request req = (Request) obj;
+		if (req.getAction() == Request.SERVER_PROTOCOL) {
+			// 协商应答由socketData直接写出
+			socketData.acceptProtocol(req);
+			return true;
+		}
+		
+		Response response = null;
+		switch (req.getActionType()) {
+		case Request.TYPE_DFX:
+			setName("UnitWorker[execute dfx]:"+req);
+			if(errorCheck){
+				response = new Response();
+				MessageManager mm = ParallelMessage.get();
+				Exception error = new Exception(mm.getMessage("UnitWorker.errorcheck",clientIP));
+				response.setException(error);
+				break;
+			}else{
+				response = TaskManager.execute(req);
+			}
+			break;
+		case Request.TYPE_CURSOR:
+			setName("UnitWorker[serve cursor]:"+req);
+			int taskId = ((Number) req.getAttr(Request.METHOD_TaskId)).intValue();
+			try {
+				RemoteCursorProxyManager rcpm;
+				if(taskId==-1){
+//							集群游标没有任务号，使用静态的游标管理器
+					rcpm = RemoteCursorProxyManager.getInstance();
+				}else{
+					ITask t = TaskManager.getTask(taskId);
+					rcpm = t.getCursorManager();
+				}
+				response = rcpm.execute(req);
+			} catch (Exception x) {
+				response = new Response();
+				response.setException(x);
+			}
+			break;
+		case Request.TYPE_FILE:
+			setName("UnitWorker[serve file]:"+req);
+			//为了提高读取文件的速度不能在读文件的过程中采用request,response的问答式，而是需要
+			//对socketData连续写文件数据，所以这类服务需要把socketData交给相应管理器，如下分区partition服务同。
+			response = RemoteFileProxyManager.execute(req, socketData);
+			break;
+		case Request.TYPE_PARTITION:
+			setName("UnitWorker[serve partition]:"+req);
+			response = PartitionManager.execute(req, socketData);
+			break;
+		case Request.TYPE_ZONE:
+			setName("UnitWorker[ZONE]:"+req);
+			response = ZoneManager.execute(req);
+			break;
+		case Request.TYPE_UNITCOMMAND:
+			setName("UnitWorker[UnitCommand]:"+req);
+			UnitCommand uc = (UnitCommand)req.getAttr(Request.EXE_Object);
+			response = uc.execute();
+			break;
+		case Request.TYPE_JDBC:
+			setName("UnitWorker[JDBC]:"+req);
+			response = com.scudata.server.unit.JdbcManager.execute(req);
+			break;
+		default: // Type Server
+			setName("UnitWorker[execute cmd]:"+req);
+			response = UnitServer.getInstance().execute(req);
+		}
+
+
+		socketData.write(response);
+		return true;
+	}
 
 	/**
-	 * ֹͣ߳ҵ
+	 * 停止线程作业
 	 */
 	public void shutdown() {
 		stop = true;
 	}
 
 	/**
-	 * ʵtoStringԲ鿴߳Ϣ
+	 * 实现toString描述，方便调试查看线程信息
 	 */
 	public String toString() {
 		StringBuffer sb = new StringBuffer();
@@ -3,7 +3,7 @@ package com.scudata.parallel;
 import org.w3c.dom.*;
 
 /**
- * XMLļ
+ * XML文件解析工具
  * 
  * @author Joancy
  *
@@ -11,9 +11,9 @@ import org.w3c.dom.*;
 public class XmlUtil {
 
 	/**
-	 * ȡڵֵ
-	 * @param node ڵ
-	 * @return ֵ
+	 * 获取节点值
+	 * @param node 节点
+	 * @return 值
 	 */
 	public static String getNodeValue(org.w3c.dom.Node node) {
 		if (node != null && node.getFirstChild() != null) {
@@ -23,10 +23,10 @@ public class XmlUtil {
 	}
 
 	/**
-	 * sonNameӽڵ
-	 * @param pNode ڵ
-	 * @param sonName ӽڵ
-	 * @return ӽڵ㣬ûҵʱnull
+	 * 根据名字sonName查找子节点
+	 * @param pNode 父节点
+	 * @param sonName 子节点名称
+	 * @return 子节点，没找到时返回null
 	 */
 	public static Node findSonNode(Node pNode, String sonName) {
 		NodeList list = pNode.getChildNodes();
@@ -40,10 +40,10 @@ public class XmlUtil {
 	}
 
 	/**
-	 * ȡڵֵ
-	 * @param node ڵ
-	 * @param attrName 
-	 * @return ֵ
+	 * 获取节点的属性值
+	 * @param node 节点对象
+	 * @param attrName 属性名称
+	 * @return 属性值
 	 */
 	public static String getAttribute(Node node, String attrName) {
 		NamedNodeMap attrs = node.getAttributes();
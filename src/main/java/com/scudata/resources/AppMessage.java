@@ -5,7 +5,7 @@ import java.util.Locale;
 import com.scudata.common.MessageManager;
 
 /**
- * ӦصԴ
+ * 应用相关的资源类
  *
  */
 public class AppMessage {
@@ -5,7 +5,7 @@ import java.util.Locale;
 import com.scudata.common.MessageManager;
 
 /**
- * شԴ
+ * 并行相关代码的资源类
  * @author Joancy
  *
  */
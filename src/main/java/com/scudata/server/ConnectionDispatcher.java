@@ -0,0 +1,274 @@
+package com.scudata.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.scudata.common.Logger;
+
+/**
+ * 服务器的连接分派器，用选择器侦听端口和空闲连接，连接上有请求时交给有界的工作线程池处理
+ * 处理完已到达的请求后连接放回选择器等待，空闲的连接不占用线程
+ * 设置系统属性esproc.server.nio=true时节点机和ODBC服务器使用此方式，否则每个连接一个线程
+ * @author RunQian
+ *
+ */
+public class ConnectionDispatcher extends Thread {
+	private static int workerCount = 256; // 工作线程的最大数量
+
+	/**
+	 * 连接的处理者，在工作线程中以阻塞方式读写连接
+	 */
+	public interface Handler {
+		/**
+		 * 连接上有数据时调用，至少处理一个请求，处理完已经到达的请求后返回
+		 * @return true：连接放回选择器等待下一个请求，false：关闭连接
+		 * @throws Exception
+		 */
+		boolean serve() throws Exception;
+
+		/**
+		 * 返回是否有已收到还没处理的数据
+		 * @return boolean
+		 * @throws IOException
+		 */
+		boolean hasInput() throws IOException;
+
+		/**
+		 * 关闭连接
+		 */
+		void close();
+	}
+
+	/**
+	 * 连接处理者的工厂，连接上第一次有数据时在工作线程中调用
+	 */
+	public interface HandlerFactory {
+		/**
+		 * 为新连接创建处理者
+		 * @param socket 阻塞模式的套接字
+		 * @return Handler
+		 * @throws Exception
+		 */
+		Handler create(Socket socket) throws Exception;
+	}
+
+	private Selector selector;
+	private ServerSocketChannel serverChannel;
+	private ThreadPoolExecutor workers;
+	private HandlerFactory factory;
+
+	// 工作线程处理完后等待放回选择器的连接，选择器的注册要在侦听线程里做
+	private ConcurrentLinkedQueue<Connection> parkQueue = new ConcurrentLinkedQueue<Connection>();
+	private Set<Connection> connections = ConcurrentHashMap.newKeySet(); // 所有打开的连接
+	private volatile boolean stop = false;
+
+	// 一个客户端连接
+	private class Connection implements Runnable {
+		private SocketChannel channel;
+		private Handler handler;
+
+		Connection(SocketChannel channel) {
+			this.channel = channel;
+		}
+
+		public void run() {
+			try {
+				channel.configureBlocking(true);
+				boolean isPark;
+				if (handler == null) {
+					handler = factory.create(channel.socket());
+					isPark = handler.hasInput() ? handler.serve() : true;
+				} else {
+					isPark = handler.serve();
+				}
+
+				if (isPark && !stop) {
+					channel.configureBlocking(false);
+					parkQueue.add(this);
+					selector.wakeup();
+					return;
+				}
+			} catch (Throwable e) {
+				Logger.debug(getName() + " connection error: " + e.getMessage());
+			}
+
+			close();
+		}
+
+		void close() {
+			connections.remove(this);
+			if (handler != null) {
+				handler.close();
+			}
+
+			try {
+				channel.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * 返回是否使用选择器方式的服务
+	 * @return boolean
+	 */
+	public static boolean isEnabled() {
+		return Boolean.getBoolean("esproc.server.nio");
+	}
+
+	/**
+	 * 设置工作线程的最大数量，在创建分派器前调用
+	 * @param count 线程数
+	 */
+	public static void setWorkerCount(int count) {
+		workerCount = count;
+	}
+
+	/**
+	 * 侦听指定地址的端口
+	 * @param name 线程名称，工作线程名以此为前缀
+	 * @param add 地址
+	 * @param port 端口
+	 * @param backlog 等待接受的连接的队列长度
+	 * @param factory 连接处理者工厂
+	 * @throws IOException 绑定端口失败时抛出异常
+	 */
+	public ConnectionDispatcher(final String name, InetAddress add, int port, int backlog,
+			HandlerFactory factory) throws IOException {
+		super(name);
+		this.factory = factory;
+		serverChannel = ServerSocketChannel.open();
+		try {
+			serverChannel.socket().bind(new InetSocketAddress(add, port), backlog);
+			serverChannel.configureBlocking(false);
+			selector = Selector.open();
+			serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+		} catch (IOException e) {
+			serverChannel.close();
+			throw e;
+		}
+
+		ThreadFactory threadFactory = new ThreadFactory() {
+			private int count = 0;
+
+			public synchronized Thread newThread(Runnable r) {
+				Thread t = new Thread(r, name + "-" + (count++));
+				t.setDaemon(true);
+				return t;
+			}
+		};
+
+		workers = new ThreadPoolExecutor(workerCount, workerCount, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), threadFactory);
+		workers.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * 停止服务，关闭所有连接
+	 */
+	public void stopDispatch() {
+		stop = true;
+		selector.wakeup();
+	}
+
+	public void run() {
+		try {
+			while (!stop) {
+				selector.select();
+				registerParked();
+				ArrayList<Connection> readyList = processKeys();
+
+				// 取消的键在下一次选择后才注销，注销后才能把通道改成阻塞模式
+				while (readyList.size() > 0 && !stop) {
+					selector.selectNow();
+					for (Connection conn : readyList) {
+						workers.execute(conn);
+					}
+
+					readyList = processKeys();
+				}
+			}
+		} catch (Throwable e) {
+			Logger.error(getName() + ": " + e.getMessage(), e);
+		} finally {
+			try {
+				serverChannel.close();
+			} catch (IOException e) {
+			}
+
+			workers.shutdownNow();
+			for (Connection conn : connections) {
+				conn.close();
+			}
+
+			try {
+				selector.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	private void registerParked() {
+		Connection conn;
+		while ((conn = parkQueue.poll()) != null) {
+			try {
+				conn.channel.register(selector, SelectionKey.OP_READ, conn);
+			} catch (ClosedChannelException e) {
+				conn.close();
+			}
+		}
+	}
+
+	// 接受新连接，返回有数据可读的连接，它们的键已被取消
+	private ArrayList<Connection> processKeys() throws IOException {
+		ArrayList<Connection> readyList = new ArrayList<Connection>();
+		Iterator<SelectionKey> itr = selector.selectedKeys().iterator();
+		while (itr.hasNext()) {
+			SelectionKey key = itr.next();
+			itr.remove();
+			if (!key.isValid()) {
+				continue;
+			}
+
+			if (key.isAcceptable()) {
+				SocketChannel channel = null;
+				try {
+					channel = serverChannel.accept();
+					if (channel != null) {
+						channel.configureBlocking(false);
+						Connection conn = new Connection(channel);
+						connections.add(conn);
+						channel.register(selector, SelectionKey.OP_READ, conn);
+					}
+				} catch (IOException e) {
+					// 某个连接出错时不能影响服务
+					Logger.error(getName() + ": " + e.getMessage(), e);
+					if (channel != null) {
+						channel.close();
+					}
+				}
+			} else if (key.isReadable()) {
+				key.cancel();
+				readyList.add((Connection)key.attachment());
+			}
+		}
+
+		return readyList;
+	}
+}
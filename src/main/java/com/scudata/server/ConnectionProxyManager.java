@@ -3,7 +3,7 @@ package com.scudata.server;
 import com.scudata.server.IProxy;
 
 /**
- * Ӵ
+ * 连接代理管理器
  * 
  * @author Joancy
  *
@@ -16,24 +16,24 @@ public class ConnectionProxyManager extends IProxy{
 	}
 	
 	/**
-	 * 	Ǹ÷Ҫڣάֳʼ̬-1
+	 * 	覆盖父类该方法，管理器本身不需要过期，维持初始态-1即可
 	 */
 	public void access() {
 	}
 
 	/**
-	 * ȡΨһʵ
-	 * @return ʵ
+	 * 获取管理器的唯一实例
+	 * @return 管理器实例
 	 */
 	public static ConnectionProxyManager getInstance(){
 		return instance;
 	}
 	
 	/**
-	 * ݱŻô
-	 * @param id 
-	 * @return 
-	 * @throws Exception ûҵӦʱ׳쳣
+	 * 根据编号获得代理对象
+	 * @param id 编号
+	 * @return 代理对象
+	 * @throws Exception 没找到对应代理时抛出异常
 	 */
 	public IProxy getConnectionProxy(int id) throws Exception{
 		IProxy cp = getProxy(id);
@@ -44,14 +44,14 @@ public class ConnectionProxyManager extends IProxy{
 	}
 	
 	/**
-	 * ʵִӿڣĸ÷
+	 * 实现代理接口，管理器的该方法无意义
 	 */
 	public void close() {
 	}
 
 	/**
-	 * ȡı
-	 * @return ı
+	 * 获取文本描述
+	 * @return 描述文本
 	 */
 	public String toString() {
 		return "ConnectionProxyManager";
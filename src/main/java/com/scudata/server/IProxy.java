@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import com.scudata.common.Logger;
 
 /**
- * ӿڳ
+ * 代理接口抽象类
  * 
  * @author Joancy
  *
@@ -18,9 +18,9 @@ public abstract class IProxy
 	long lastAccessTime = -1;
 	
 	/**
-	 * 캯
-	 * @param parent 
-	 * @param id Ψһ
+	 * 构造函数
+	 * @param parent 父代理
+	 * @param id 唯一编号
 	 */
 	public IProxy(IProxy parent, int id){
 		this.parent = parent;
@@ -28,7 +28,7 @@ public abstract class IProxy
 	}
 	
 	/**
-	 * ˢ´ķʱ
+	 * 刷新代理的访问时间
 	 */
 	public void access() {
 		lastAccessTime = System.currentTimeMillis();
@@ -38,17 +38,17 @@ public abstract class IProxy
 	}
 
 	/**
-	 * ôķʱ
+	 * 重置代理的访问时间
 	 */
 	public void resetAccess() {
 		lastAccessTime = -1;
 	}
 	
 	/**
-	 * ٴ
+	 * 销毁代理对象
 	 */
 	public synchronized void destroy(){
-//		ȹӴ
+//		先关子代理
 		if(subProxies!=null){
 			for(int i=0;i<subProxies.size();i++){
 				IProxy p = subProxies.get(i);
@@ -56,17 +56,17 @@ public abstract class IProxy
 			}
 			subProxies.clear();
 		}
-//		ٹԼ
+//		再关自己
 		close();
-//		ӸƳԼ
+//		从父代理移除自己
 		if(parent!=null){
 			parent.removeProxy(this);
 		}
 	}
 	
 	/**
-	 * ׷һӴ
-	 * @param proxy Ӵ
+	 * 追加一个子代理
+	 * @param proxy 子代理对象
 	 */
 	public synchronized void addProxy(IProxy proxy){
 		if(subProxies==null){
@@ -76,8 +76,8 @@ public abstract class IProxy
 	}
 	
 	/**
-	 * ƳӴ
-	 * @param proxy Ӵ
+	 * 移除子代理
+	 * @param proxy 子代理对象
 	 */
 	public synchronized void removeProxy(IProxy proxy){
 		if(subProxies!=null){
@@ -86,9 +86,9 @@ public abstract class IProxy
 	}
 
 	/**
-	 * ݱŻȡӴ
-	 * @param id 
-	 * @return Ӵ
+	 * 根据编号获取子代理
+	 * @param id 编号
+	 * @return 子代理对象
 	 */
 	public synchronized IProxy getProxy(int id){
 		if(subProxies==null){
@@ -104,9 +104,9 @@ public abstract class IProxy
 	}
 
 	/**
-	 * 鵱ǰǷʳʱ
-	 * @param timeOut ʱʱ
-	 * @return ʱٶ󣬷true򷵻false
+	 * 检查当前代理是否访问超时
+	 * @param timeOut 超时时间
+	 * @return 超时后销毁对象，返回true，否则返回false
 	 */
 	public synchronized boolean checkTimeOut(int timeOut) {
 		if(subProxies!=null){
@@ -116,9 +116,9 @@ public abstract class IProxy
 			}
 		}
 		if (lastAccessTime < 0) {
-			return false; // ûܼ
+			return false; // 还没计算的任务不能检查过期
 		}
-		// 룬timeOutλΪ
+		// 换算成秒，timeOut单位为秒
 		long unvisit = (System.currentTimeMillis() - lastAccessTime) / 1000;
 		if (unvisit > timeOut) {
 			Logger.debug(this + " is timeout.");
@@ -129,24 +129,24 @@ public abstract class IProxy
 	}
 	
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取代理编号
+	 * @return 编号
 	 */
 	public int getId(){
 		return id;
 	}
 	
 	/**
-	 * ȡ
-	 * @return 
+	 * 获取父代理
+	 * @return 父代理对象
 	 */
 	public IProxy getParent(){
 		return parent;
 	}
 	
 	/**
-	 * ȡӴܸ
-	 * @return Ӵ
+	 * 获取子代理的总个数
+	 * @return 子代理计数
 	 */
 	public synchronized int size(){
 		if(subProxies==null) return 0;
@@ -154,12 +154,12 @@ public abstract class IProxy
 	}
 	
 	/**
-	 * رյǰͷԴ
+	 * 关闭当前代理，释放资源
 	 */
 	public abstract void close();
 	
 	/**
-	 * ȡϢ
+	 * 获取代理内容描述信息
 	 */
 	public abstract String toString();
 }
@@ -31,7 +31,7 @@ import com.scudata.server.unit.UnitServer;
 import sun.net.util.IPAddressUtil;
 
 /**
- * HttpĻò
+ * Http服务器的环境配置参数类
  * 
  * @author Joancy
  *
@@ -46,12 +46,14 @@ public class HttpContext extends ConfigWriter {
 	private boolean autoStart=false;
 
 	private ArrayList<String> sapPath = new ArrayList<String>();
+	private String cacheTTL = null; // 结果缓存的有效期，格式为“脚本:秒数,...”，脚本写成*表示缺省有效期
+	private int cacheSize = 0; // 结果缓存占用内存的上限，单位M，0表示使用缺省值
 
 	static MessageManager mm = ParallelMessage.get();
 
 	/**
-	 * 캯
-	 * @param showException Ƿ񽫹쳣ӡ̨
+	 * 构造函数
+	 * @param showException 是否将构造异常打印到控制台，否则忽略
 	 */
 	public HttpContext(boolean showException) {
 		try {
@@ -68,8 +70,8 @@ public class HttpContext extends ConfigWriter {
 	}
 
 	/**
-	 * ȡȱʡķurlַ
-	 * @return urlַ
+	 * 获取缺省的访问url地址
+	 * @return url地址
 	 */
 	public String getDefaultUrl() {
 		String tmp = host;
@@ -85,9 +87,9 @@ public class HttpContext extends ConfigWriter {
 	}
 
 	/**
-	 * ļػ
-	 * @param is ļ
-	 * @throws Exception ʽʱ׳쳣
+	 * 从配置文件的输入流加载环境参数
+	 * @param is 配置文件输入流
+	 * @throws Exception 格式出错时抛出异常
 	 */
 	public void load(InputStream is) throws Exception {
 		DocumentBuilderFactory docBuilderFactory = DocumentBuilderFactory
@@ -106,7 +108,7 @@ public class HttpContext extends ConfigWriter {
 			throw new Exception(mm.getMessage("UnitConfig.errorxml"));
 		}
 
-		// Server 
+		// Server 配置
 		String buf = XmlUtil.getAttribute(root, "host");
 		if (StringUtils.isValidString(buf)) {
 			host = buf;
@@ -122,7 +124,7 @@ public class HttpContext extends ConfigWriter {
 			autoStart = Boolean.parseBoolean(buf);
 		}
 
-		// ̶־̨  start.home/nodes/[ip_port]/log Ŀ¼
+		// 固定输出日志到控制台， 和 start.home/nodes/[ip_port]/log 目录下
 		String home = UnitServer.getHome();
 		String file = "http/" + UnitClient.getHostPath(host) + "_" + port + "/log/log.txt";
 		File f = new File(home, file);
@@ -143,6 +145,16 @@ public class HttpContext extends ConfigWriter {
 			maxLinks = Integer.parseInt(buf);
 		}
 
+		buf = XmlUtil.getAttribute(root, "cacheTTL");
+		if (StringUtils.isValidString(buf)) {
+			cacheTTL = buf;
+		}
+
+		buf = XmlUtil.getAttribute(root, "cacheSize");
+		if (StringUtils.isValidString(buf)) {
+			cacheSize = Integer.parseInt(buf);
+		}
+
 		buf = XmlUtil.getAttribute(root, "sapPath");
 		if (StringUtils.isValidString(buf)) {
 			ArgumentTokenizer at = new ArgumentTokenizer(buf, ',');
@@ -157,7 +169,7 @@ public class HttpContext extends ConfigWriter {
 		handler.setResult(resultxml);
 		level = 0;
 		handler.startDocument();
-		// øڵͰ汾
+		// 设置根节点和版本
 		String paths = "";
 		for (int i = 0; i < sapPath.size(); i++) {
 			if (paths.length() > 0)
@@ -167,10 +179,10 @@ public class HttpContext extends ConfigWriter {
 		handler.startElement("", "", "Server", getAttributesImpl(new String[] {
 				ConfigConsts.VERSION, "1", "host", host, "port", port + "", "autostart", autoStart + "",
 				"maxlinks", maxLinks + "",  //parallelNum + "",
-				"sapPath", paths }));
+				"sapPath", paths, "cacheTTL", cacheTTL, "cacheSize", cacheSize + "" }));
 
 		handler.endElement("", "", "Server");
-		// ĵ,ͬ
+		// 文档结束,同步到磁盘
 		handler.endDocument();
 	}
 
@@ -222,6 +234,38 @@ public class HttpContext extends ConfigWriter {
 		sapPath = paths;
 	}
 
+	/**
+	 * 取结果缓存的有效期
+	 * @return 格式为“脚本:秒数,...”的串，脚本写成*表示缺省有效期
+	 */
+	public String getCacheTTL() {
+		return cacheTTL;
+	}
+
+	/**
+	 * 设置结果缓存的有效期
+	 * @param ttl 格式为“脚本:秒数,...”的串，脚本写成*表示缺省有效期
+	 */
+	public void setCacheTTL(String ttl) {
+		this.cacheTTL = ttl;
+	}
+
+	/**
+	 * 取结果缓存占用内存的上限
+	 * @return 单位M，0表示使用缺省值
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * 设置结果缓存占用内存的上限
+	 * @param size 单位M，0表示使用缺省值
+	 */
+	public void setCacheSize(int size) {
+		this.cacheSize = size;
+	}
+
 	public String toString() {
 		return host + ":" + port;
 	}
@@ -1,16 +1,23 @@
 package com.scudata.server.http;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.io.Writer;
 import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.json.JSONObject;
 
@@ -21,16 +28,22 @@ import com.scudata.common.FileUtils;
 import com.scudata.common.Logger;
 import com.scudata.common.MessageManager;
 import com.scudata.common.StringUtils;
+import com.scudata.dm.BFileWriter;
 import com.scudata.dm.BaseRecord;
 import com.scudata.dm.Context;
+import com.scudata.dm.DfxManager;
 import com.scudata.dm.Env;
 import com.scudata.dm.FileObject;
 import com.scudata.dm.JobSpaceManager;
+import com.scudata.dm.LineExporter;
 import com.scudata.dm.Param;
 import com.scudata.dm.ParamList;
 import com.scudata.dm.Record;
+import com.scudata.dm.ResultCache;
 import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
+import com.scudata.dm.cursor.ICursor;
+import com.scudata.dm.cursor.MemoryCursor;
 import com.scudata.expression.mfn.sequence.Export;
 import com.scudata.ide.spl.Esprocx;
 import com.scudata.parallel.Task;
@@ -39,42 +52,50 @@ import com.scudata.server.IServer;
 import com.scudata.thread.Job;
 import com.scudata.util.CellSetUtil;
 import com.scudata.util.DatabaseUtil;
+import com.scudata.util.JSONUtil;
 import com.scudata.util.Variant;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 
 /**
- * Http
+ * Http服务处理器
  * 
- * ֵ֧urlд:
+ * 支持的url写法:
  * 1  http://..../splx1.splx()
  * 2  http://..../splx1.splx(arg1,arg2,...)
  * 3  http://localhost:.../splx1.splx(...)splx2.splx
- * HTTPurlʽ
- * 1ֻһsplxļsplxвдֵֵöŷָ
- * ûвдš ϵͳĬϸʽתַ
- * 2splxûҪķشʽϵͳĬϵĲͬ
- * 		 1splxд1ͬsplx2ǵĳ򣬲ֵΪsplx1ķֵ
- * ûsplx2нsplx1ķֵתԼҪʽַȻΪsplx2ķֵ
+ * HTTP服务的url串格式，分两种情况：
+ * 1、只有一个splx文件。如果splx有参数，则在括号里依次写参数值，值间用逗号分隔；
+ * 如果没有参数，则写个空括号。 计算结果按系统默认格式转化成字符串返回
+ * 2、有两个splx，这种情况用于用户想要的返回串格式与系统默认的不同。
+ * 		 第1个splx的写法与第1种情况相同。splx2是单参数的程序，参数值为splx1的返回值。
+ * 用户在splx2中将splx1的返回值转换成自己需要格式的字符串，然后作为splx2的返回值
  *  
  * @author Joancy
  *
  */
 public class SplxHttpHandler implements HttpHandler {
 	private IServer server = null;
+	
+	// 流式写出的格式
+	private static final String FORMAT_JSON = "json"; // json数组
+	private static final String FORMAT_JSONL = "jsonl"; // 每行一个json值
+	private static final String FORMAT_CSV = "csv"; // 逗号分隔，带标题，串加引号
+	private static final String FORMAT_BTX = "btx"; // 集文件
+	private static final String FORMAT_TXT = "txt"; // 制表符分隔，带标题，与排列转成串的结果相同
 	static MessageManager mm = ParallelMessage.get();
 
 	/**
-	 * ÷
-	 * @param is 
+	 * 设置服务器
+	 * @param is 服务器
 	 */
 	public void setIServer(IServer is) {
 		server = is;
 	}
 
 	/**
-	 * Http
+	 * 处理Http请求
 	 */
 	public void handle(HttpExchange httpExchange) throws IOException {
 		try {
@@ -93,7 +114,7 @@ public class SplxHttpHandler implements HttpHandler {
 				server.shutDown();
 				return;
 			}
-			// ͷһηʱᷢôһ󣬺
+			// 浏览器头一次访问时，会发送这么一个请求，忽略它
 			if (path.equals("/favicon.ico")) {
 				return;
 			}
@@ -102,7 +123,7 @@ public class SplxHttpHandler implements HttpHandler {
 				LinksPool.addLink();
 			}
 			else {
-				throw new Exception( "ֵ" + LinksPool.getMaxLinks() + "Ժٷ" );
+				throw new Exception( "在线连接数超过了最大值" + LinksPool.getMaxLinks() + "，请稍候再访问" );
 			}
 		} catch (Throwable t) {
 			try {
@@ -133,7 +154,7 @@ public class SplxHttpHandler implements HttpHandler {
 				catch( Throwable th){}
 			}
 			//SplxServerInIDE dsi = (SplxServerInIDE)server;
-			//dsi.shutDown();     //ΪʲôҪshutdown
+			//dsi.shutDown();     //为什么要shutdown呢
 		}
 		
 	}
@@ -147,9 +168,9 @@ public class SplxHttpHandler implements HttpHandler {
 		if (obj instanceof Table) { // Table
 			Table t = (Table) obj;
 			result = Export.export(t, null, null, null, "t", new Context());
-		} else if (obj instanceof Sequence) {// У
+		} else if (obj instanceof Sequence) {// 排列，序列
 			result = ((Sequence) obj).toExportString();
-		} else if (obj instanceof BaseRecord) {// ¼
+		} else if (obj instanceof BaseRecord) {// 记录
 			result = ((BaseRecord) obj).toString("tq");
 		} else {
 			result = obj.toString();
@@ -157,8 +178,70 @@ public class SplxHttpHandler implements HttpHandler {
 		return result;
 	}
 
+	// 按Content-Type、Accept或format参数确定流式写出的格式
+	private static String toFormat( String type ) {
+		if( type == null ) return null;
+		type = type.toLowerCase();
+		if( type.indexOf( "ndjson" ) >= 0 || type.indexOf( "jsonl" ) >= 0 ) return FORMAT_JSONL;
+		else if( type.indexOf( "json" ) >= 0 ) return FORMAT_JSON;
+		else if( type.indexOf( "csv" ) >= 0 ) return FORMAT_CSV;
+		else if( type.indexOf( "btx" ) >= 0 ) return FORMAT_BTX;
+		else return null;
+	}
+	
+	private static ICursor toCursor( Object result ) {
+		if( result instanceof ICursor ) return (ICursor)result;
+		return new MemoryCursor( toSequence( result ) );
+	}
+	
+	private static Sequence toSequence( Object result ) {
+		if( result instanceof Sequence ) return (Sequence)result;
+		Sequence seq = new Sequence( 1 );
+		seq.add( result );
+		return seq;
+	}
+	
+	// 结果缓存中的应答
+	static class CachedResponse {
+		int status;
+		Headers headers;
+		byte[] body;
+		String etag;
+		ICursor stream; // 游标结果不缓存，写出时流式写出
+		String format;
+		
+		// 按内容的摘要生成ETag
+		static String getETag( byte[] body ) throws NoSuchAlgorithmException {
+			byte[] md5 = MessageDigest.getInstance( "MD5" ).digest( body );
+			long h1 = 0, h2 = 0;
+			for( int i = 0; i < 8; i++ ) {
+				h1 = ( h1 << 8 ) | ( md5[i] & 0xff );
+				h2 = ( h2 << 8 ) | ( md5[i + 8] & 0xff );
+			}
+			return "\"" + StringUtils.toHexString( h1, 8 ) + StringUtils.toHexString( h2, 8 ) + "\"";
+		}
+		
+		// If-None-Match中是否有当前的ETag
+		boolean isMatch( String ifNoneMatch ) {
+			if( ifNoneMatch == null ) return false;
+			ArgumentTokenizer at = new ArgumentTokenizer( ifNoneMatch, ',' );
+			while( at.hasMoreTokens() ) {
+				String tag = at.nextToken().trim();
+				if( tag.startsWith( "W/" ) ) tag = tag.substring( 2 );
+				if( tag.equals( "*" ) || tag.equals( etag ) ) return true;
+			}
+			return false;
+		}
+	}
+
 	class HandlerThread extends Job{
 		HttpExchange httpExchange;
+		String contentType = "text/html;charset=UTF-8";
+		String headers = null;   //脚本返回的响应头
+		int status = 200;     //请求响应码
+		Context ctx1 = null;
+		String encoding = "UTF-8";
+		boolean hasContentType = false;
 		
 		public HandlerThread(HttpExchange httpExchange){
 			this.httpExchange = httpExchange;
@@ -166,10 +249,7 @@ public class SplxHttpHandler implements HttpHandler {
 		
 		public void run() {
 			Object result = "";
-			String contentType = "text/html;charset=UTF-8";
-			String headers = null;
-			int status = 200;     //Ӧ
-			Context ctx1 = null;
+			CachedResponse cached = null;
 			try {
 				URI uri = httpExchange.getRequestURI();
 				String path = uri.getPath().trim();
@@ -192,7 +272,7 @@ public class SplxHttpHandler implements HttpHandler {
 							ext = null;
 						}
 					}
-					if( ext != null ) {   //ͼƬļ
+					if( ext != null ) {   //访问图片文件
 						String fileName = path.substring( 1 );
 						FileObject fo = new FileObject(fileName, "sp");
 						InputStream is = null;
@@ -207,8 +287,8 @@ public class SplxHttpHandler implements HttpHandler {
 							try{ is.close(); }catch( Throwable t ){}
 						}
 					}
-					else {    //ûչģsplx
-						if( path.endsWith( ".splx" ) || path.endsWith( ".spl" ) || path.endsWith( ".dfx" ) ) {  //ЩβʱԶ()
+					else {    //没有扩展名的，都当成splx
+						if( path.endsWith( ".splx" ) || path.endsWith( ".spl" ) || path.endsWith( ".dfx" ) ) {  //以这些结尾时，自动给添加上()
 							path += "()";
 						}
 						String fileName = "";
@@ -235,9 +315,9 @@ public class SplxHttpHandler implements HttpHandler {
 							fileName = path1.substring(1, start).trim();
 						}
 						else {
-							//pathû()˵saprestfulʽurl: http://..../sapPath/dfx/argvalue1/argvalue2/...
-							//argvalueǲֵһдȫĸֵȫֿͷ
-							//ûdfx2
+							//path中没有()，说明是sap的restful格式的url: http://..../sapPath/dfx/argvalue1/argvalue2/...
+							//其中argvalue是参数名与值合在一起书写，参数名全是字母，参数值全是数字开头
+							//没有dfx2
 							path = path.trim();
 							ArrayList<String> saps = SplxServerInIDE.getInstance().getContext().getSapPath();
 							String prefix = "";
@@ -271,93 +351,12 @@ public class SplxHttpHandler implements HttpHandler {
 								}
 							}
 						}
-						PgmCellSet pcs1 = null;
-						try {
-							FileObject fo = new FileObject(fileName, "s");
-							pcs1 = fo.readPgmCellSet();
-						}
-						catch( Throwable th ) {
-							status = 404;
-							th.printStackTrace();
+						long ttl = ResultCache.getInstance().getTTL( fileName );
+						if( ttl > 0 ) {
+							cached = getCachedResponse( fileName, params, splx2, ttl );
 						}
-						if( status == 200 ) {
-							ParamList list = pcs1.getParamList();
-							ArgumentTokenizer at = new ArgumentTokenizer(params, ',');
-							boolean hasPost = false;
-							ctx1 = Esprocx.prepareEnv();
-							if( list != null ) {
-								for( int i = 0; i < list.count(); i++ ) {
-									Param p = (Param) list.get(i);
-									Object value = p.getValue();
-									String pName = p.getName();
-									if( "argpost".equals( pName ) ) hasPost = true;
-									//if( value == null ) continue;
-									ctx1.setParamValue( pName, value );
-								}
-							}
-							for (int i = 0; at.hasMoreTokens() && list != null; i++) {
-								String pvalue = at.nextToken();
-								//if (pvalue == null || pvalue.trim().length() == 0) continue;
-								Param p = (Param) list.get(i);
-								ctx1.setParamValue(p.getName(), Variant.parse(pvalue));
-							}
-							//ȡpost
-							if( hasPost ) {
-								InputStream reqis = null;
-								try {
-									reqis = httpExchange.getRequestBody();
-									BufferedReader br = new BufferedReader( new InputStreamReader( reqis ) );
-									StringBuffer sb = new StringBuffer();
-									String line = null;
-									while( ( line = br.readLine() ) != null ) {
-										sb.append( line ).append( "\n" );
-									}
-									ctx1.setParamValue( "argpost", sb.toString() );
-									//Logger.info( "argpostΪ" + sb.toString() );
-								}
-								finally {
-									try{ if( reqis != null ) reqis.close(); }catch(Throwable t){}
-								}
-							}
-							//post end
-							SplxServerInIDE server = SplxServerInIDE.instance;
-							if (server != null) {
-								RaqsoftConfig rc = server.getRaqsoftConfig();
-								if (rc != null) {
-									List<String> dbs = rc.getAutoConnectList();
-									DatabaseUtil.connectAutoDBs(ctx1, dbs);
-								}
-							}
-		
-							try {
-								pcs1.reset();
-								pcs1.setContext(ctx1);
-								pcs1.calculateResult();
-							}
-							finally {
-								JobSpaceManager.closeSpace( ctx1.getJobSpace().getID() );
-							}
-							Object obj1 = pcs1.nextResult();
-							if (splx2.length() == 0) { // ˵ֻһsplx
-								result = obj2String(obj1);
-							} else {
-								if (!splx2.startsWith("/"))
-									splx2 = "/" + splx2;
-								PgmCellSet pcs2 = CellSetUtil
-										.readPgmCellSet(HttpContext.dfxHome + splx2);
-								ParamList list2 = pcs2.getParamList();
-								Context ctx2 = new Context();
-								ctx2.setParamValue(((Param) list2.get(0)).getName(), obj1);
-								pcs2.reset();
-								pcs2.setContext(ctx2);
-								pcs2.calculateResult();
-								Object obj2 = pcs2.nextResult();
-								result = obj2String(obj2);
-							}
-							Object hs = pcs1.nextResult();   //صĵڶʾresponseHeaders
-							if( hs != null ) {
-								headers = (String)obj2String( hs );
-							}
+						else {
+							result = calculate( fileName, params, splx2, null );
 						}
 					}
 				}
@@ -383,44 +382,23 @@ public class SplxHttpHandler implements HttpHandler {
 				catch( Throwable th ) {
 					Logger.severe(th);
 				}
-			} finally {
-				try {
-					DatabaseUtil.closeAutoDBs(ctx1);
-				}catch( Throwable ex){}
 			}
 			
 			try{
-				String encoding = "UTF-8"; 
 				Headers hs = httpExchange.getResponseHeaders();
-				boolean hasContentType = false;
-				if( headers != null && headers.trim().length() > 0 ) {
-					JSONObject jo = new JSONObject( headers );
-					Iterator<String> it = jo.keys();
-					while( it.hasNext() ) {
-						String key = it.next();
-						if( key.toLowerCase().equals( "content-type" ) ) {
-							hasContentType = true;
-							String ct = jo.getString(key);
-							int pos = ct.indexOf( "charset=" );
-							if( pos >= 0 ) encoding = ct.substring( pos + 8 ).trim();
-						}
-						if( key.toLowerCase().equals( "status" ) ) {
-							status = jo.getInt( key );
-						}
-						else hs.add( key, jo.getString( key ) );
-					}
+				if( cached != null ) {
+					writeCached( cached, hs );
+					return;
 				}
-				byte[] bytes = null;
-				if( result instanceof String ) {
-					bytes = ((String)result).getBytes(encoding);
-				}
-				else {
-					bytes = (byte[])result;
-					String type = FileUtils.getFileFormat( bytes );
-					if( FileUtils.FORMAT_GIF.equals( type )	|| FileUtils.FORMAT_JPG.equals( type ) || FileUtils.FORMAT_PNG.equals( type ) ) {
-						contentType = "image";
-					}
+				applyHeaders( hs );
+				String format = getStreamFormat( result, hs );
+				if( format != null ) {
+					// 游标、序表和要求按指定格式返回的序列、记录边转换边按块写出，不产生中间串
+					httpExchange.sendResponseHeaders( status, 0 );
+					writeStream( result, format, httpExchange.getResponseBody() );
+					return;
 				}
+				byte[] bytes = toBytes( result );
 				if( !hasContentType ) {
 					hs.add( "Content-Type", contentType );
 				}
@@ -442,10 +420,349 @@ public class SplxHttpHandler implements HttpHandler {
 					httpExchange.close();
 				}
 				catch( Throwable th){}
+				try {
+					DatabaseUtil.closeAutoDBs(ctx1);
+				}catch( Throwable ex){}
 				LinksPool.removeLink();
 			}
 		}
 		
+		// 计算splx，返回结果，脚本返回的响应头记在headers中，postBody为空时从请求中读取post内容
+		private Object calculate( String fileName, String params, String splx2, String postBody ) throws Throwable {
+			Object result = "";
+			PgmCellSet pcs1 = null;
+			try {
+				FileObject fo = new FileObject(fileName, "s");
+				pcs1 = DfxManager.getInstance().removeDfx(fo, new Context());
+			}
+			catch( Throwable th ) {
+				status = 404;
+				th.printStackTrace();
+			}
+			if( status == 200 ) {
+				ParamList list = pcs1.getParamList();
+				ArgumentTokenizer at = new ArgumentTokenizer(params, ',');
+				boolean hasPost = false;
+				ctx1 = Esprocx.prepareEnv();
+				if( list != null ) {
+					for( int i = 0; i < list.count(); i++ ) {
+						Param p = (Param) list.get(i);
+						Object value = p.getValue();
+						String pName = p.getName();
+						if( "argpost".equals( pName ) ) hasPost = true;
+						//if( value == null ) continue;
+						ctx1.setParamValue( pName, value );
+					}
+				}
+				for (int i = 0; at.hasMoreTokens() && list != null; i++) {
+					String pvalue = at.nextToken();
+					//if (pvalue == null || pvalue.trim().length() == 0) continue;
+					Param p = (Param) list.get(i);
+					ctx1.setParamValue(p.getName(), Variant.parse(pvalue));
+				}
+				//读取post内容
+				if( hasPost ) {
+					ctx1.setParamValue( "argpost", postBody != null ? postBody : readPost() );
+				}
+				//post end
+				SplxServerInIDE server = SplxServerInIDE.instance;
+				if (server != null) {
+					RaqsoftConfig rc = server.getRaqsoftConfig();
+					if (rc != null) {
+						List<String> dbs = rc.getAutoConnectList();
+						DatabaseUtil.connectAutoDBs(ctx1, dbs);
+					}
+				}
+
+				// 从缓存取出的网已经重置过，使用网自己的上下文以便重用解析好的表达式
+				Context dfxCtx = pcs1.getContext();
+				dfxCtx.setEnv(ctx1);
+				ParamList ctxParams = ctx1.getParamList();
+				for (int i = 0, count = ctxParams == null ? 0 : ctxParams.count(); i < count; i++) {
+					Param p = ctxParams.get(i);
+					dfxCtx.setParamValue(p.getName(), p.getValue());
+				}
+				
+				try {
+					pcs1.calculateResult();
+				}
+				finally {
+					JobSpaceManager.closeSpace( ctx1.getJobSpace().getID() );
+				}
+				Object obj1 = pcs1.nextResult();
+				if (splx2.length() == 0) { // 说明只有一个splx
+					// 序列、记录和游标在写出时再转换，以便按json格式流式写出
+					result = obj1;
+				} else {
+					if (!splx2.startsWith("/"))
+						splx2 = "/" + splx2;
+					PgmCellSet pcs2 = CellSetUtil
+							.readPgmCellSet(HttpContext.dfxHome + splx2);
+					ParamList list2 = pcs2.getParamList();
+					Context ctx2 = new Context();
+					ctx2.setParamValue(((Param) list2.get(0)).getName(), obj1);
+					pcs2.reset();
+					pcs2.setContext(ctx2);
+					pcs2.calculateResult();
+					Object obj2 = pcs2.nextResult();
+					result = obj2;
+				}
+				Object hs = pcs1.nextResult();   //返回的第二个结果表示responseHeaders
+				if( hs != null ) {
+					headers = (String)obj2String( hs );
+				}
+				if( !( obj1 instanceof ICursor ) ) {
+					// 返回游标时网的上下文还要在写出结果时使用，不放回缓存
+					DfxManager.getInstance().putDfx(pcs1);
+				}
+			}
+			return result;
+		}
+		
+		// 读取post内容
+		private String readPost() throws IOException {
+			InputStream reqis = null;
+			try {
+				reqis = httpExchange.getRequestBody();
+				BufferedReader br = new BufferedReader( new InputStreamReader( reqis ) );
+				StringBuffer sb = new StringBuffer();
+				String line = null;
+				while( ( line = br.readLine() ) != null ) {
+					sb.append( line ).append( "\n" );
+				}
+				//Logger.info( "设置argpost参数为：" + sb.toString() );
+				return sb.toString();
+			}
+			finally {
+				try{ if( reqis != null ) reqis.close(); }catch(Throwable t){}
+			}
+		}
+		
+		// 从结果缓存中取应答，没有时计算splx并生成应答，键由文件名、文件版本、参数值、splx2和post内容组成
+		private CachedResponse getCachedResponse( final String fileName, final String params, final String splx2, long ttl ) throws Exception {
+			String version = ResultCache.getVersion( new FileObject( fileName, "s" ) );
+			final String postBody = "POST".equalsIgnoreCase( httpExchange.getRequestMethod() ) ? readPost() : null;
+			ResultCache.Loader loader = new ResultCache.Loader() {
+				public Object load() throws Exception {
+					try {
+						return createResponse( calculate( fileName, params, splx2, postBody ) );
+					}
+					catch( Exception e ) {
+						throw e;
+					}
+					catch( Throwable t ) {
+						throw new Exception( t.getMessage(), t );
+					}
+				}
+				
+				public long sizeOf( Object value ) {
+					CachedResponse cr = (CachedResponse)value;
+					return cr.status == 200 && cr.body != null ? cr.body.length + 1024 : -1;
+				}
+			};
+			
+			if( version == null ) {
+				return (CachedResponse)loader.load();
+			}
+			
+			ArrayList<Object> args = new ArrayList<Object>();
+			ArgumentTokenizer at = new ArgumentTokenizer( params, ',' );
+			while( at.hasMoreTokens() ) {
+				args.add( Variant.parse( at.nextToken() ) );
+			}
+			String key = "http:" + fileName + ":" + version + ResultCache.toKey( args.toArray() );
+			if( splx2.length() > 0 ) {
+				String path2 = splx2.startsWith( "/" ) ? splx2 : "/" + splx2;
+				key += splx2 + ":" + ResultCache.getVersion( new FileObject( HttpContext.dfxHome + path2, "s" ) );
+			}
+			if( postBody != null ) {
+				key += ":" + postBody.length() + ":" + postBody;
+			}
+			key += ":" + getRequestFormat();
+			return (CachedResponse)ResultCache.getInstance().get( key, ttl, loader );
+		}
+		
+		// 把结果转成可以缓存的应答
+		private CachedResponse createResponse( Object result ) throws Exception {
+			CachedResponse cr = new CachedResponse();
+			Headers hs = new Headers();
+			applyHeaders( hs );
+			String format = getStreamFormat( result, hs );
+			if( result instanceof ICursor ) {
+				// 游标的数据量可能很大，不缓存，写出时直接流式写出
+				cr.stream = (ICursor)result;
+				cr.format = format;
+			}
+			else if( format != null ) {
+				ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				writeStream( result, format, baos );
+				cr.body = baos.toByteArray();
+			}
+			else {
+				cr.body = toBytes( result );
+				if( !hasContentType ) {
+					hs.add( "Content-Type", contentType );
+				}
+			}
+			cr.status = status;
+			cr.headers = hs;
+			if( cr.body != null ) {
+				cr.etag = CachedResponse.getETag( cr.body );
+			}
+			return cr;
+		}
+		
+		// 写出缓存的应答，请求带的If-None-Match与ETag一致时返回304
+		private void writeCached( CachedResponse cr, Headers hs ) throws IOException {
+			for( Map.Entry<String, List<String>> entry : cr.headers.entrySet() ) {
+				hs.put( entry.getKey(), new ArrayList<String>( entry.getValue() ) );
+			}
+			if( cr.status == 404 ) {
+				httpExchange.sendResponseHeaders( 404, -1 );
+				return;
+			}
+			if( cr.stream != null ) {
+				httpExchange.sendResponseHeaders( cr.status, 0 );
+				writeStream( cr.stream, cr.format, httpExchange.getResponseBody() );
+				return;
+			}
+			hs.set( "ETag", cr.etag );
+			if( cr.status == 200 && cr.isMatch( httpExchange.getRequestHeaders().getFirst( "If-None-Match" ) ) ) {
+				httpExchange.sendResponseHeaders( 304, -1 );
+				return;
+			}
+			httpExchange.sendResponseHeaders( cr.status, cr.body.length == 0 ? -1 : cr.body.length );
+			OutputStream os = httpExchange.getResponseBody();
+			os.write( cr.body );
+			os.close();
+		}
+		
+		// 把脚本返回的响应头加到hs中，同时确定编码、状态码和是否设置了Content-Type
+		private void applyHeaders( Headers hs ) throws Exception {
+			if( headers != null && headers.trim().length() > 0 ) {
+				JSONObject jo = new JSONObject( headers );
+				Iterator<String> it = jo.keys();
+				while( it.hasNext() ) {
+					String key = it.next();
+					if( key.toLowerCase().equals( "content-type" ) ) {
+						hasContentType = true;
+						String ct = jo.getString(key);
+						int pos = ct.indexOf( "charset=" );
+						if( pos >= 0 ) encoding = ct.substring( pos + 8 ).trim();
+					}
+					if( key.toLowerCase().equals( "status" ) ) {
+						status = jo.getInt( key );
+					}
+					else hs.add( key, jo.getString( key ) );
+				}
+			}
+		}
+		
+		// 确定结果流式写出的格式，先看脚本设置的Content-Type，再看请求的format参数和Accept，同时设置Content-Type
+		// 都没有指定时游标按json数组写出，序表按原来的文本格式写出，其它结果不流式写出，返回空
+		private String getStreamFormat( Object result, Headers hs ) {
+			if( !( result instanceof ICursor || result instanceof Sequence || result instanceof BaseRecord ) ) {
+				return null;
+			}
+			String format = hasContentType ? toFormat( hs.getFirst( "Content-Type" ) ) : null;
+			if( format == null ) format = getRequestFormat();
+			if( format == null ) {
+				if( result instanceof ICursor ) format = FORMAT_JSON;
+				else if( result instanceof Table ) format = FORMAT_TXT;
+				else return null;
+			}
+			if( !hasContentType ) {
+				hs.add( "Content-Type", getContentType( format ) );
+			}
+			return format;
+		}
+		
+		// 请求要求的格式，先看url的format参数，再看Accept
+		private String getRequestFormat() {
+			String query = httpExchange.getRequestURI().getRawQuery();
+			if( query != null ) {
+				ArgumentTokenizer at = new ArgumentTokenizer( query, '&' );
+				while( at.hasMoreTokens() ) {
+					String item = at.nextToken().trim();
+					if( item.toLowerCase().startsWith( "format=" ) ) {
+						String format = toFormat( item.substring( 7 ).trim() );
+						if( format != null ) return format;
+					}
+				}
+			}
+			return toFormat( httpExchange.getRequestHeaders().getFirst( "Accept" ) );
+		}
+		
+		private String getContentType( String format ) {
+			if( FORMAT_JSON.equals( format ) ) return "application/json;charset=" + encoding;
+			else if( FORMAT_JSONL.equals( format ) ) return "application/x-ndjson;charset=" + encoding;
+			else if( FORMAT_CSV.equals( format ) ) return "text/csv;charset=" + encoding;
+			else if( FORMAT_BTX.equals( format ) ) return "application/x-btx";
+			else return contentType;
+		}
+		
+		// 按格式边转换边写出，数据按批从游标取出，占用的内存与结果的大小无关
+		private void writeStream( Object result, String format, OutputStream os ) throws IOException {
+			os = new BufferedOutputStream( os, 64 * 1024 );
+			try {
+				if( FORMAT_BTX.equals( format ) ) {
+					BFileWriter.exportStream( toCursor( result ), os );
+				}
+				else if( FORMAT_CSV.equals( format ) || FORMAT_TXT.equals( format ) ) {
+					boolean isCsv = FORMAT_CSV.equals( format );
+					byte[] colSeparator = isCsv ? new byte[] { (byte)',' } : FileObject.COL_SEPARATOR;
+					LineExporter exporter = new LineExporter( os, encoding, colSeparator, FileObject.LINE_SEPARATOR, false );
+					if( isCsv ) {
+						exporter.setQuote( true );
+						exporter.setEscapeChar( '"' );
+					}
+					if( result instanceof ICursor ) {
+						FileObject.export_x( exporter, (ICursor)result, null, null, true, new Context() );
+					}
+					else {
+						FileObject.export_x( exporter, toSequence( result ), null, null, true, new Context() );
+					}
+					
+					// 与排列转成串的结果一致，最后一行也以换行符结束
+					os.write( FileObject.LINE_SEPARATOR );
+				}
+				else {
+					Writer writer = new OutputStreamWriter( os, encoding );
+					if( FORMAT_JSONL.equals( format ) ) {
+						JSONUtil.writeJSONLines( toCursor( result ), writer );
+					}
+					else if( result instanceof ICursor ) {
+						JSONUtil.writeJSON( (ICursor)result, writer );
+					}
+					else {
+						JSONUtil.writeJSON( result, writer );
+					}
+					writer.flush();
+				}
+			}
+			finally {
+				if( result instanceof ICursor ) {
+					// 客户端断开时游标可能没有取完
+					((ICursor)result).close();
+				}
+				os.close();
+			}
+		}
+		
+		// 结果转成字节数组，图片设置contentType
+		private byte[] toBytes( Object result ) throws IOException {
+			result = obj2String( result );
+			if( result instanceof String ) {
+				return ((String)result).getBytes(encoding);
+			}
+			byte[] bytes = (byte[])result;
+			String type = FileUtils.getFileFormat( bytes );
+			if( FileUtils.FORMAT_GIF.equals( type )	|| FileUtils.FORMAT_JPG.equals( type ) || FileUtils.FORMAT_PNG.equals( type ) ) {
+				contentType = "image";
+			}
+			return bytes;
+		}
+		
 		public byte[] getStreamBytes(InputStream is) throws Exception {
 			ArrayList al = new ArrayList();
 			int totalBytes = 0;
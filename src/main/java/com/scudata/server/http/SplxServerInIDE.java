@@ -6,6 +6,7 @@ import java.net.InetSocketAddress;
 
 import com.scudata.app.config.RaqsoftConfig;
 import com.scudata.common.Logger;
+import com.scudata.dm.ResultCache;
 import com.scudata.parallel.UnitContext;
 import com.scudata.resources.ParallelMessage;
 import com.scudata.server.IServer;
@@ -13,7 +14,7 @@ import com.scudata.server.StartUnitListener;
 import com.sun.net.httpserver.HttpServer;
 
 /**
- * dfxHttpʵ
+ * dfx计算的Http服务器实现
  * 
  * @author Joancy
  *
@@ -28,32 +29,32 @@ public class SplxServerInIDE implements IServer {
 	StartUnitListener listener = null;
 
 	/**
-	 * Ϣ
-	 * @param rc 
+	 * 设置配置信息
+	 * @param rc 配置
 	 */
 	public void setRaqsoftConfig(RaqsoftConfig rc){
 		this.rc = rc;
 	}
 	/**
-	 * ȡϢ
-	 * @return 
+	 * 获取配置信息
+	 * @return 配置
 	 */
 	public RaqsoftConfig getRaqsoftConfig(){
 		return rc;
 	}
 	
 	/**
-	 * ȡĶ
-	 * @return Ķ
+	 * 获取环境上下文对象
+	 * @return 上下文对象
 	 */
 	public HttpContext getContext(){
 		return ctx;
 	}
 	
 	/**
-	 * ȡΨһʵ
-	 * @return ʵ
-	 * @throws Exception ʵʱ׳쳣
+	 * 获取服务器唯一实例
+	 * @return 服务器实例
+	 * @throws Exception 产生实例出错时抛出异常
 	 */
 	public static SplxServerInIDE getInstance() throws Exception {
 		if (instance == null) {
@@ -63,14 +64,14 @@ public class SplxServerInIDE implements IServer {
 	}
 	
 	/**
-	 * 
-	 * @return ɹtrueʧܷfalse
-	 * @throws Throwable г׳쳣
+	 * 启动服务器
+	 * @return 启动成功返回true，失败返回false
+	 * @throws Throwable 启动过程中出错抛出异常
 	 */
 	public boolean start() throws Throwable {
 		if (httpServer != null)
 			return false;
-//			ȼļǷ
+//			先检查下配置文件是否存在
 		InputStream is = UnitContext.getUnitInputStream(HttpContext.HTTP_CONFIG_FILE);
 		is.close();
 		ctx = new HttpContext(true);
@@ -83,6 +84,12 @@ public class SplxServerInIDE implements IServer {
 			InetSocketAddress inetSock = new InetSocketAddress(ia,port);
 			httpServer = HttpServer.create(inetSock, ctx.getMaxLinks());
 			LinksPool.setMaxLinks( ctx.getMaxLinks() );
+			if (ctx.getCacheTTL() != null) {
+				ResultCache.getInstance().setTTL(ctx.getCacheTTL());
+			}
+			if (ctx.getCacheSize() > 0) {
+				ResultCache.getInstance().setMaxCacheBytes(ctx.getCacheSize() * 1024L * 1024);
+			}
 		}catch(java.net.BindException ex){
 			throw new Exception(ParallelMessage.get().getMessage("SplxServerInIDE.portbind",port));
 		}
@@ -100,27 +107,27 @@ public class SplxServerInIDE implements IServer {
 	}
 
 	/**
-	 * رշ
+	 * 关闭服务器
 	 */
 	public void shutDown() {
 		stop();
 	}
 
 	/**
-	 * ִֹͣ
-	 * @return ɹͣ񷵻true򷵻false
+	 * 执行停止服务器
+	 * @return 成功停掉服务返回true，否则返回false
 	 */
 	public boolean stop() {
 		if (httpServer == null)
 			return false;
-		httpServer.stop(2); // ȴ2
+		httpServer.stop(2); // 最多等待2秒
 		httpServer = null;
 		Logger.info(ParallelMessage.get().getMessage("SplxServerInIDE.stop"));
 		return true;
 	}
 
 	/**
-	 * ʼз
+	 * 开始运行服务
 	 */
 	public void run() {
 		try {
@@ -134,31 +141,31 @@ public class SplxServerInIDE implements IServer {
 	}
 
 	/**
-	 * ȡ״̬
-	 * @return зtrue򷵻false
+	 * 获取运行状态
+	 * @return 正在运行返回true，否则返回false
 	 */
 	public boolean isRunning() {
 		return httpServer != null;
 	}
 	
 	/**
-	 * ÷
+	 * 设置服务启动侦听类
 	 */
 	public void setStartUnitListener(StartUnitListener listen) {
 		listener = listen;
 	}
 
 	/**
-	 * ȡַ
-	 * @return ַ
+	 * 获取服务器地址
+	 * @return 服务器地址
 	 */
 	public String getHost() {
 		return ctx.toString();
 	}
 
 	/**
-	 * ǷԶ
-	 * @return Զtrue򷵻false
+	 * 是否自动启动服务
+	 * @return 自动启动返回true，否则返回false
 	 */
 	public boolean isAutoStart() {
 		if(ctx==null){
@@ -5,7 +5,7 @@ import com.scudata.server.ConnectionProxyManager;
 import com.scudata.server.IProxy;
 
 /**
- * Ӵ
+ * 连接代理器
  * 
  * @author Joancy
  *
@@ -17,10 +17,10 @@ public class ConnectionProxy extends IProxy
 	boolean closed = false;
 
 	/**
-	 * һӴ
-	 * @param cpm Ӵ
-	 * @param id Ψһ
-	 * @param user ¼û
+	 * 创建一个连接代理对象
+	 * @param cpm 连接代理管理器
+	 * @param id 代理唯一号
+	 * @param user 登录用户名
 	 */
 	public ConnectionProxy(ConnectionProxyManager cpm, int id, String user){
 		super(cpm, id);
@@ -31,9 +31,9 @@ public class ConnectionProxy extends IProxy
 	}
 	
 	/**
-	 * ȡStatement
-	 * @param id 
-	 * @return Statement
+	 * 获取Statement代理
+	 * @param id 代理编号
+	 * @return Statement代理
 	 * @throws Exception
 	 */
 	public StatementProxy getStatementProxy(int id) throws Exception{
@@ -45,31 +45,31 @@ public class ConnectionProxy extends IProxy
 	}
 	
 	/**
-	 * ȡû
-	 * @return û
+	 * 获取用户名
+	 * @return 用户名
 	 */
 	public String getUserName(){
 		return userName;
 	}
 	
 	/**
-	 * ȡ¼ʱ
-	 * @return ʾʱ
+	 * 获取登录时间
+	 * @return 整数表示法的时间
 	 */
 	public long getLoginTime(){
 		return loginTime;
 	}
 	
 	/**
-	 * Ƿѹر
-	 * @return ѹرշtrue򷵻false
+	 * 是否已关闭
+	 * @return 已关闭返回true，否则返回false
 	 */
 	public boolean isClosed(){
 		return closed;
 	}
 	
 	/**
-	 * رյǰ
+	 * 关闭当前代理对象
 	 */
 	public void close() {
 		closed = true;
@@ -77,7 +77,7 @@ public class ConnectionProxy extends IProxy
 	}
 
 	/**
-	 * ʵtoStringӿ
+	 * 实现toString接口
 	 */
 	public String toString() {
 		return "Connection "+getId();
@@ -12,8 +12,8 @@ import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
 
 /**
- * ͵Ķ
- * Լodbc dllӦԼʽĶдݵķ
+ * 数据类型的定义
+ * 以及跟odbc dll对应约定格式的读写数据的方法
  * 
  * @author Joancy
  *
@@ -34,9 +34,9 @@ public class DataTypes {
 	public static final byte TYPE_UNSUPPORT = (byte)126;//
 	
 	/**
-	 * дһֽ
-	 * @param out 
-	 * @param size ֽ
+	 * 往输出流写一个字节
+	 * @param out 输出流
+	 * @param size 字节
 	 * @throws Exception
 	 */
 	public static void writeByte(OutputStream out, byte size) throws Exception {
@@ -44,9 +44,9 @@ public class DataTypes {
 		out.write(size);
 	}
 	/**
-	 * ȡһֽ
-	 * @param in 
-	 * @return һֽ
+	 * 从输入流读取一个字节
+	 * @param in 输入流
+	 * @return 一个字节数据
 	 * @throws IOException
 	 */
 	public static byte readByte(InputStream in) throws IOException {
@@ -58,11 +58,11 @@ public class DataTypes {
 	}
 
 	/**
-	 * дһ
-	 * outΪnullʱڼǷ֧֣ڲֵ֧ݣ
-	 * ҪǰУ飻д˳ɹ־쳣ˡ
-	 * @param out 
-	 * @param size 32λ
+	 * 往输出流写一个整数
+	 * out为null时用于检验数据是否都支持，对于不支持的数据，
+	 * 要提前校验；否则写了成功标志后，再抛异常，就乱套了。
+	 * @param out 输出流
+	 * @param size 32位整数
 	 * @throws Exception
 	 */
 	public static void writeInt(OutputStream out, int size) throws Exception {
@@ -73,9 +73,9 @@ public class DataTypes {
 		out.write(size);
 	}
 	/**
-	 * ȡһ32λ
-	 * @param in 
-	 * @return 
+	 * 从输入流读取一个32位的整数
+	 * @param in 输入流
+	 * @return 整数
 	 * @throws IOException
 	 */
 	public static int readInt(InputStream in) throws IOException {
@@ -90,9 +90,9 @@ public class DataTypes {
 	}
 	
 	/**
-	 * дһֵ
-	 * @param out 
-	 * @param b ֵ
+	 * 写出一个布尔值
+	 * @param out 输出流
+	 * @param b 布尔值
 	 * @throws Exception
 	 */
 	public static void writeBool(OutputStream out, boolean b) throws Exception {
@@ -105,9 +105,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * һֵ
-	 * @param in 
-	 * @return ֵ
+	 * 读入一个布尔值
+	 * @param in 输入流
+	 * @return 布尔值
 	 * @throws IOException
 	 */
 	public static boolean readBool(InputStream in) throws IOException {
@@ -116,9 +116,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * ȡһַ
-	 * @param is 
-	 * @return ַ
+	 * 读取一个字符串
+	 * @param is 输入流
+	 * @return 字符串
 	 * @throws IOException
 	 */
 	public static String readString(InputStream is) throws IOException {
@@ -132,9 +132,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * дһַ
-	 * @param out 
-	 * @param str ַ
+	 * 写出一个字符串
+	 * @param out 输出流
+	 * @param str 字符串
 	 * @throws Exception
 	 */
 	public static void writeString(OutputStream out, String str) throws Exception {
@@ -153,9 +153,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * дһ64λĳ
-	 * @param out 
-	 * @param size 
+	 * 写出一个64位的长整数
+	 * @param out 输出流
+	 * @param size 长整数
 	 * @throws Exception
 	 */
 	public static void writeLong(OutputStream out, long size) throws Exception {
@@ -171,9 +171,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * ȡһ64λĳ
-	 * @param in 
-	 * @return 64λ
+	 * 读取一个64位的长整数
+	 * @param in 输入流
+	 * @return 64位长整数
 	 * @throws IOException
 	 */
 	public static long readLong(InputStream in) throws IOException {
@@ -194,9 +194,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * дһ
-	 * @param out 
-	 * @param d ʵ
+	 * 写出一个浮点数
+	 * @param out 输出流
+	 * @param d 浮点实数
 	 * @throws Exception
 	 */
 	public static void writeFloat(OutputStream out, double d) throws Exception {
@@ -206,9 +206,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * ȡһ
-	 * @param in 
-	 * @return doubleȵĸ
+	 * 读取一个浮点数
+	 * @param in 输入流
+	 * @return double精度的浮点数
 	 * @throws IOException
 	 */
 	public static Double readFloat(InputStream in) throws IOException {
@@ -217,9 +217,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * ѧһֵ
-	 * @param out 
-	 * @param dec ֵ
+	 * 学出一个大数值
+	 * @param out 输出流
+	 * @param dec 大数值
 	 * @throws Exception
 	 */
 	public static void writeDecimal(OutputStream out, BigDecimal dec) throws Exception {
@@ -229,9 +229,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * ȡһֵ
-	 * @param in 
-	 * @return ֵ
+	 * 读取一个大数值
+	 * @param in 输入流
+	 * @return 大数值
 	 * @throws IOException
 	 */
 	public static BigDecimal readDecimal(InputStream in) throws IOException {
@@ -240,9 +240,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * дһֵ
-	 * @param out 
-	 * @param d ֵ
+	 * 写出一个日期值
+	 * @param out 输出流
+	 * @param d 日期值
 	 * @throws Exception
 	 */
 	public static void writeDate(OutputStream out, java.sql.Date d) throws Exception {
@@ -252,9 +252,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * ȡһֵ
-	 * @param in 
-	 * @return ֵ
+	 * 读取一个日期值
+	 * @param in 输入流
+	 * @return 日期值
 	 * @throws IOException
 	 */
 	public static java.sql.Date readDate(InputStream in) throws IOException {
@@ -263,9 +263,9 @@ public class DataTypes {
 	}
 	
 	/**
-	 * дһʱֵ
-	 * @param out 
-	 * @param t ʱֵ
+	 * 写出一个时间值
+	 * @param out 输出流
+	 * @param t 时间值
 	 * @throws Exception
 	 */
 	public static void writeTime(OutputStream out, java.sql.Time t) throws Exception {
@@ -275,9 +275,9 @@ public class DataTypes {
 	}
 	
 	/**
-	 * ȡһǼְ
-	 * @param in 
-	 * @return ʱֵ
+	 * 读取一个是兼职
+	 * @param in 输入流
+	 * @return 时间值
 	 * @throws IOException
 	 */
 	public static java.sql.Time readTime(InputStream in) throws IOException {
@@ -286,9 +286,9 @@ public class DataTypes {
 	}
 	
 	/**
-	 * дһʱֵ
-	 * @param out 
-	 * @param date ʱ
+	 * 写出一个日期时间值
+	 * @param out 输出流
+	 * @param date 日期时间
 	 */
 	public static void writeDateTime(OutputStream out, java.util.Date date) throws Exception {
 		if(out==null) return;
@@ -297,9 +297,9 @@ public class DataTypes {
 	}
 	
 	/**
-	 * һʱֵ
-	 * @param in 
-	 * @return ʱֵ
+	 * 读入一个日期时间值
+	 * @param in 输入流
+	 * @return 日期时间值
 	 * @throws IOException
 	 */
 	public static java.util.Date readDateTime(InputStream in) throws IOException {
@@ -308,9 +308,9 @@ public class DataTypes {
 	}
 	
 	/**
-	 * дһbyte
-	 * @param out 
-	 * @param bytes byte
+	 * 写出一个byte数组
+	 * @param out 输出流
+	 * @param bytes byte数组
 	 * @throws Exception
 	 */
 	public static void writeBinary(OutputStream out, byte[] bytes) throws Exception {
@@ -321,9 +321,9 @@ public class DataTypes {
 	}
 
 	/**
-	 * һbyte
-	 * @param in 
-	 * @return byte
+	 * 读入一个byte数组
+	 * @param in 输入流
+	 * @return byte数组
 	 * @throws IOException
 	 */
 	public static byte[] readBinary(InputStream in) throws IOException {
@@ -442,9 +442,9 @@ public class DataTypes {
 	}
 	
 	/**
-	 * дһ
-	 * @param out 
-	 * @param row һ
+	 * 写出一行数据
+	 * @param out 输出流
+	 * @param row 一行数据
 	 * @throws Exception
 	 */
 	public static void writeRowData(OutputStream out, Object[] row) throws Exception{
@@ -460,9 +460,9 @@ public class DataTypes {
 	}
 	
 	/**
-	 * ȡһ
-	 * @param is 
-	 * @return һ
+	 * 读取一行数据
+	 * @param is 输入流
+	 * @return 一行数据
 	 * @throws Exception
 	 */
 	public static Object[] readRowData(InputStream is) throws Exception{
@@ -477,7 +477,7 @@ public class DataTypes {
 		return data;
 	}
 	/**
-	 * дά
+	 * 写二维表
 	 * @param out
 	 * @param table
 	 * @throws Exception
@@ -497,8 +497,8 @@ public class DataTypes {
 	}
 	
 	/**
-	 * ȼһǷвֵ֧ݣ쳣дɹ־
-	 * ֳ쳣ôģӰ죬൱ڱ
+	 * 先检查一遍是否有不支持的数据，有则抛异常，避免写出成功标志后，
+	 * 又出异常，这么改，性能有影响，相当于遍历了两遍数据
 	 * @param table
 	 * @throws Exception
 	 */
@@ -507,9 +507,9 @@ public class DataTypes {
 	}
 	
 	/**
-	 * дһ
-	 * @param out 
-	 * @param table 
+	 * 写出一个序表
+	 * @param out 输出流
+	 * @param table 序表
 	 * @throws Exception
 	 */
 	public static void writeTable(OutputStream out, Sequence table) throws Exception{
@@ -528,16 +528,16 @@ public class DataTypes {
 					rowData = new Object[]{rowObj};
 				}
 				writeRowData(out, rowData);
-//				ǼͣһУݶͬͣΪ
+//				如果是检查数据类型，则仅检查第一行，假设后续的数据都是相同类型，为了性能
 				if(out==null) break;
 			}
 		}
 	}
 
 	/**
-	 * һά
-	 * @param is 
-	 * @return ά
+	 * 读入一个二维表
+	 * @param is 输入流
+	 * @return 二维表数据
 	 * @throws Exception
 	 */
 	public static Object[][] readTable(InputStream is) throws Exception{
@@ -565,20 +565,20 @@ public class DataTypes {
 	}
 	
 	/**
-	 * дһݽṹ
-	 * @param os 
-	 * @param table 
+	 * 写出一个序表，包含数据结构和数据
+	 * @param os 输出流
+	 * @param table 序表对象
 	 * @throws Exception
 	 */
 	public static void writeDatastructAndData(OutputStream os, Table table) throws Exception{
 		String[] columns = table.dataStruct().getFieldNames();
-		// дֶ
+		// 先写字段名称
 		int size = columns.length;
 		writeInt(os, size);
 		for (int i = 0; i < size; i++) {
 			writeString(os, columns[i]);
 		}
-		// д
+		// 再写数据内容
 		writeTable(os, table);
 	}
 	
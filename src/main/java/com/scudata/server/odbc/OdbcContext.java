@@ -29,24 +29,24 @@ import com.scudata.server.ConnectionProxyManager;
 import com.scudata.server.unit.UnitServer;
 
 /**
- * ODBC
+ * ODBC服务器上下文
  */
 public class OdbcContext extends ConfigWriter {
 	public static final String ODBC_CONFIG_FILE = "OdbcServer.xml";
 
 	private String host = UnitContext.getDefaultHost();//"127.0.0.1";
-	private int port = 8501, timeOut = 2; // ʱļʱ䣬СʱΪλ0Ϊ鳬ʱ
+	private int port = 8501, timeOut = 2; // 临时文件存活时间，小时为单位，0为不检查超时
 
 	// Connection
 	private int conMax = 10;
-	private int conTimeOut = 2;// Ӵʱ䣬СʱΪλ0Ϊ鳬ʱ
-	private int conPeriod = 5; // ʱļڵʱ0ΪڡļԼαĹʱ,λ
+	private int conTimeOut = 2;// 连接存活时间，小时为单位，0为不检查超时
+	private int conPeriod = 5; // 检查代理或者临时文件过期的时间间隔，0为不检查过期。文件以及游标代理的过期时间,单位秒
 	private boolean autoStart=false;
 	
 	private List<User> users = null;
 
 	/**
-	 * odbc
+	 * 创建odbc服务器上下文
 	 */
 	public OdbcContext(){
 		try {
@@ -60,8 +60,8 @@ public class OdbcContext extends ConfigWriter {
 	}
 
 	/**
-	 * 
-	 * @param is ļ
+	 * 加载配置
+	 * @param is 配置文件输入流
 	 * @throws Exception
 	 */
 	public void load(InputStream is) throws Exception {
@@ -81,7 +81,7 @@ public class OdbcContext extends ConfigWriter {
 			throw new Exception(ParallelMessage.get().getMessage("UnitConfig.errorxml"));
 		}
 
-		// Server 
+		// Server 配置
 		String buf = XmlUtil.getAttribute(root, "host");
 		if (StringUtils.isValidString(buf)) {
 			host = buf;
@@ -97,7 +97,7 @@ public class OdbcContext extends ConfigWriter {
 			autoStart = Boolean.parseBoolean(buf);
 		}
 
-		// ̶־̨  start.home/nodes/[ip_port]/log Ŀ¼
+		// 固定输出日志到控制台， 和 start.home/nodes/[ip_port]/log 目录下
 		String home = UnitServer.getHome();
 		String file = "odbc/" + UnitClient.getHostPath(host) + "_" + port + "/log/log.txt";
 		File f = new File(home, file);
@@ -165,8 +165,8 @@ public class OdbcContext extends ConfigWriter {
 	}
 
 	/**
-	 * õ
-	 * @param out 
+	 * 保存配置到输出流
+	 * @param out 输出流
 	 * @throws SAXException
 	 */
 	public void save(OutputStream out) throws SAXException {
@@ -174,7 +174,7 @@ public class OdbcContext extends ConfigWriter {
 		handler.setResult(resultxml);
 		level = 0;
 		handler.startDocument();
-		// øڵͰ汾
+		// 设置根节点和版本
 		handler.startElement("", "", "Server", getAttributesImpl(new String[] {
 				ConfigConsts.VERSION, "1", "host", host, "port", port + "","autostart", autoStart + "",
 				"timeout", timeOut + ""})); 
@@ -206,21 +206,21 @@ public class OdbcContext extends ConfigWriter {
 		}
 
 		handler.endElement("", "", "Server");
-		// ĵ,ͬ
+		// 文档结束,同步到磁盘
 		handler.endDocument();
 	}
 
 	/**
-	 * ȡIP
-	 * @return IPַ
+	 * 获取服务器IP
+	 * @return IP地址
 	 */
 	public String getHost() {
 		return host;
 	}
 
 	/**
-	 * ȡ˿ں
-	 * @return ˿ں
+	 * 获取端口号
+	 * @return 端口号
 	 */
 	public int getPort() {
 		return port;
@@ -231,119 +231,119 @@ public class OdbcContext extends ConfigWriter {
 	}
 
 	/**
-	 * ö˿ں
-	 * @param port ˿
+	 * 设置端口号
+	 * @param port 端口
 	 */
 	public void setPort(int port) {
 		this.port = port;
 	}
 
 	/**
-	 * ǷԶ
-	 * @param as ǷԶ
+	 * 设置是否自动启动
+	 * @param as 是否自动启动
 	 */
 	public void setAutoStart(boolean as) {
 		this.autoStart = as;
 	}
 
 	/**
-	 * ȡǷԶ
-	 * @return Ƿ
+	 * 获取服务器是否自动启动的
+	 * @return 是否自启动
 	 */
 	public boolean isAutoStart() {
 		return autoStart;
 	}
 
 	/**
-	 * ȡӳʱʱ
-	 * @return ʱʱ
+	 * 获取连接超时的时间
+	 * @return 超时时间
 	 */
 	public int getTimeOut() {
 		return timeOut;
 	}
 
 	/**
-	 * ʱļʱ䣬СʱΪλ0Ϊ鳬ʱ
-	 * @param timeout ʱʱ
+	 * 设置临时文件存活时间，小时为单位，0为不检查超时
+	 * @param timeout 超时时间
 	 */
 	public void setTimeOut(int timeout) {
 		this.timeOut = timeout;
 	}
 
 	/**
-	 * ȡĿ
-	 * @return 
+	 * 获取最大连接数目
+	 * @return 最大连接数
 	 */
 	public int getConMax() {
 		return conMax;
 	}
 
 	/**
-	 * 
-	 * @param max 
+	 * 设置最大连接数
+	 * @param max 最大连接数
 	 */
 	public void setConMax(int max) {
 		this.conMax = max;
 	}
 
 	/**
-	 * ȡӳʱʱ
-	 * @return ӳʱʱ
+	 * 获取连接超时的时间
+	 * @return 连接超时的时间
 	 */
 	public int getConTimeOut() {
 		return conTimeOut;
 	}
 	/**
-	 * Ӵʱ䣬СʱΪλ0Ϊ鳬ʱ
-	 * @param cto ʱ
+	 * 设置连接存活时间，小时为单位，0为不检查超时
+	 * @param cto 时间
 	 */
 	public void setConTimeOut(int cto) {
 		this.conTimeOut = cto;
 	}
 
 	/**
-	 * ȡ鳬ʱ
-	 * @return ʱ 
+	 * 获取检查超时间隔
+	 * @return 超时检查间隔 
 	 */
 	public int getConPeriod() {
 		return this.conPeriod;
 	}
 
 	/**
-	 * üʱļڵʱ0Ϊڡ
-	 * ļԼαĹʱ,λ
+	 * 设置检查代理或者临时文件过期的时间间隔，0为不检查过期。
+	 * 文件以及游标代理的过期时间,单位秒
 	 */
 	public void setConPeriod(int period) {
 		this.conPeriod = period;
 	}
 
 	/**
-	 * ȡûб
-	 * @return ûб
+	 * 获取用户列表
+	 * @return 用户列表
 	 */
 	public List<User> getUserList() {
 		return users;
 	}
 
 	/**
-	 * ûб
-	 * @param users ûб
+	 * 设置用户列表
+	 * @param users 用户列表
 	 */
 	public void setUserList(List<User> users) {
 		this.users = users;
 	}
 
 	/**
-	 * ʵtoStringӿ
+	 * 实现toString接口
 	 */
 	public String toString() {
 		return host + ":" + port;
 	}
 
 	/**
-	 * ûǷ
-	 * @param user û
-	 * @return  ʱtrue򷵻false
+	 * 检查用户是否存在
+	 * @param user 用户名
+	 * @return  存在时返回true，否则返回false
 	 */
 	public boolean isUserExist(String user) {
 		if (users == null) {
@@ -357,10 +357,10 @@ public class OdbcContext extends ConfigWriter {
 	}
 
 	/**
-	 * УûϷ
-	 * @param user û
-	 * @param password 
-	 * @return Уͨtrue򷵻false
+	 * 校验用户合法性
+	 * @param user 用户名
+	 * @param password 密码
+	 * @return 校验通过返回true，否则返回false
 	 * @throws Exception
 	 */
 	public boolean checkUser(String user, String password) throws Exception{
@@ -382,7 +382,7 @@ public class OdbcContext extends ConfigWriter {
 		throw new Exception("Invalid user name.");
 	}
 
-	// 1ʾȷ
+	// 返回1表示正确，其它错误
 	public static class User {
 		private String name = null;
 		private String password = null;
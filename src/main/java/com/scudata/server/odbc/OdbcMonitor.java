@@ -5,8 +5,8 @@ import com.scudata.dm.*;
 import com.scudata.server.ConnectionProxyManager;
 
 /**
- * ODBC
- * ʱ(System.currentTimeMillis()-proxy.lastAccessTime()>service.getTimeout)Ķرղɾ
+ * ODBC监视器
+ * 将超时(System.currentTimeMillis()-proxy.lastAccessTime()>service.getTimeout)的对象关闭并删除
  * @author Joancy
  *
  */
@@ -14,31 +14,31 @@ public class OdbcMonitor extends Thread {
 	volatile boolean stop = false;
 
 	/**
-	 * ODBC
+	 * 创建ODBC监视器
 	 */
 	public OdbcMonitor(){
 		this.setName(toString());
 	}
 	
 	/**
-	 * ʵtoStringӿ
+	 * 实现toString接口
 	 */
 	public String toString(){
 		return "OdbcMonitor";
 	}
 
 	/**
-	 * ֹͣ߳
+	 * 停止监视线程
 	 */
 	public void stopThread() {
 		stop = true;
 	}
 
 	/**
-	 * м߳
+	 * 运行监视线程
 	 */
 	public void run() {
-		// timeOutΪ0ʱ鳬ʱ
+		// timeOut为0时，不检查超时
 		int interval = 0;
 		int conTimeOut = 0;
 		try{
@@ -56,7 +56,7 @@ public class OdbcMonitor extends Thread {
 		if (interval == 0 || conTimeOut == 0) {
 			return;
 		}
-		//ʱĵλΪСʱȻΪλ xq 20161222
+		//超时的单位改为小时，先化成秒为单位 xq 2016年12月22日
 		conTimeOut = conTimeOut * 3600;
 		while (!stop) {
 			try {
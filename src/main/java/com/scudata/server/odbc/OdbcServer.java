@@ -14,13 +14,14 @@ import com.scudata.dm.Env;
 import com.scudata.parallel.TempFileMonitor;
 import com.scudata.parallel.UnitContext;
 import com.scudata.resources.ParallelMessage;
+import com.scudata.server.ConnectionDispatcher;
 import com.scudata.server.ConnectionProxyManager;
 import com.scudata.server.IServer;
 import com.scudata.server.StartUnitListener;
 import com.scudata.server.unit.UnitServer;
 
 /**
- * odbcʵֶodbcӿڵķ
+ * odbc服务器，实现对odbc接口的服务
  * 
  * @author Joancy
  *
@@ -37,18 +38,19 @@ public class OdbcServer implements IServer {
 	static int objectId = 0;
 	static Object idLock = new Object();
 	ThreadGroup workers = new ThreadGroup("OdbcWorker");
+	private volatile ConnectionDispatcher dispatcher = null; // 选择器方式时的连接分派器
 
 	private RaqsoftConfig rc = null;
 	
 	/**
-	 * Ǭ
+	 * 设置润乾配置
 	 */
 	public void setRaqsoftConfig(RaqsoftConfig rc){
 		this.rc = rc;
 	}
 
 	/**
-	 * ȡǬļ
+	 * 获取润乾配置文件对象
 	 */
 	public RaqsoftConfig getRaqsoftConfig(){
 		return rc;
@@ -59,8 +61,8 @@ public class OdbcServer implements IServer {
 	}
 
 	/**
-	 * ̬ͨȡΨһʵ
-	 * @return odbcʵ
+	 * 通过静态方法获取唯一服务器实例
+	 * @return odbc服务器实例
 	 * @throws Exception
 	 */
 	public static OdbcServer getInstance() throws Exception {
@@ -71,21 +73,25 @@ public class OdbcServer implements IServer {
 	}
 
 	/**
-	 * ֹ
+	 * 终止服务
 	 */
 	public void terminate() {
 		shutDown();
 	}
 
 	/**
-	 * ֹͣ
+	 * 停止服务器
 	 */
 	public void shutDown() {
 		stop = true;
+		ConnectionDispatcher dispatcher = this.dispatcher;
+		if (dispatcher != null) {
+			dispatcher.stopDispatch();
+		}
 	}
 
 	/**
-	 * طǷ״̬
+	 * 返回服务器是否在运行状态
 	 */
 	public synchronized boolean isRunning() {
 		return isAlive();
@@ -99,16 +105,16 @@ public class OdbcServer implements IServer {
 	}
 
 	/**
-	 * Ƿ
-	 * @return true򷵻false
+	 * 检查服务器是否活动的
+	 * @return 活动返回true，否则返回false
 	 */
 	public boolean isAlive() {
 		return !stop;
 	}
 
 	/**
-	 * IDż
-	 * @return Ψһ
+	 * 服务器ID号计数
+	 * @return 唯一号
 	 */
 	public static int nextId() {
 		synchronized (idLock) {
@@ -122,16 +128,16 @@ public class OdbcServer implements IServer {
 	}
 
 	/**
-	 * ȡodbc
-	 * @return odbc
+	 * 获取odbc上下文
+	 * @return odbc上下文
 	 */
 	public OdbcContext getContext() {
 		return ctx;
 	}
 
 	/**
-	 * ȡHome·
-	 * @return home·
+	 * 获取服务器Home路径
+	 * @return home路径
 	 */
 	public static String getHome() {
 		String home = System.getProperty("start.home");
@@ -139,14 +145,14 @@ public class OdbcServer implements IServer {
 	}
 
 	/**
-	 * з
+	 * 运行服务器
 	 */
 	public void run() {
 		ServerSocket ss = null;
 		Logger.info(ParallelMessage.get().getMessage("OdbcServer.run1"));
 		Logger.info(ParallelMessage.get().getMessage("UnitServer.run2", getHome()));
 		try {
-//			ȼļǷ
+//			先检查下配置文件是否存在
 			InputStream is = UnitContext.getUnitInputStream(OdbcContext.ODBC_CONFIG_FILE);
 			is.close();
 			ctx = new OdbcContext();
@@ -162,9 +168,20 @@ public class OdbcServer implements IServer {
 		int port = ctx.getPort();
 		try {
 			InetAddress add = InetAddress.getByName(host);
-			ss = new ServerSocket(port, 10, add);
-			int TimeOut = 3000;
-			ss.setSoTimeout(TimeOut);
+			if (ConnectionDispatcher.isEnabled()) {
+				dispatcher = new ConnectionDispatcher("OdbcWorker", add, port, 10,
+						new ConnectionDispatcher.HandlerFactory() {
+					public ConnectionDispatcher.Handler create(Socket socket) throws Exception {
+						OdbcWorker ow = new OdbcWorker(workers, "OdbcWorker");
+						ow.setSocket(socket);
+						return ow;
+					}
+				});
+			} else {
+				ss = new ServerSocket(port, 10, add);
+				int TimeOut = 3000;
+				ss.setSoTimeout(TimeOut);
+			}
 		} catch (Exception x) {
 			if(listener!=null){
 				listener.serverStartFail();
@@ -191,6 +208,12 @@ public class OdbcServer implements IServer {
 		setStop(false,port);
 		int c = 0;
 		try {
+			if (dispatcher != null) {
+				dispatcher.start();
+				dispatcher.join();
+				stop = true;
+			}
+			
 			while (!stop) {
 				try {
 					Socket s = ss.accept();
@@ -198,7 +221,7 @@ public class OdbcServer implements IServer {
 					ow.setSocket(s);
 					ow.start();
 				} catch (InterruptedIOException e) {
-					// ʱ󣬲ж쳣
+					// 超时后，产生中断异常
 				}
 			}
 			Thread[] threads = new Thread[workers.activeCount()];
@@ -226,19 +249,20 @@ public class OdbcServer implements IServer {
 				}
 			} catch (Exception x) {
 			}
+			dispatcher = null;
 			instance = null;
 		}
 	}
 	
 	/**
-	 * ÷
+	 * 设置服务器侦听类
 	 */
 	public void setStartUnitListener(StartUnitListener listen) {
 		listener = listen;
 	}
 
 	/**
-	 * ȡIP˿
+	 * 获取服务器IP及端口
 	 */
 	public String getHost() {
 		return ctx.toString();
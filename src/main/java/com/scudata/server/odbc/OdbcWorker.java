@@ -21,16 +21,17 @@ import com.scudata.dm.Context;
 import com.scudata.dm.ParamList;
 import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
+import com.scudata.server.ConnectionDispatcher;
 import com.scudata.server.ConnectionProxyManager;
 import com.scudata.util.CellSetUtil;
 
 /**
- * ODBC߳
+ * ODBC工作任务线程
  * @author Joancy
  *
  */
-class OdbcWorker extends Thread {
-	static final int Buffer_Size = 1024 * 64; // С
+class OdbcWorker extends Thread implements ConnectionDispatcher.Handler {
+	static final int Buffer_Size = 1024 * 64; // 缓冲区大小
 	
 	private Socket sckt;
 	private volatile boolean stop = false;
@@ -38,17 +39,17 @@ class OdbcWorker extends Thread {
 	InputStream in;
 
 	/**
-	 * һ
-	 * @param tg ߳
-	 * @param name 
+	 * 创建一个工作任务
+	 * @param tg 线程组
+	 * @param name 名称
 	 */
 	public OdbcWorker(ThreadGroup tg, String name) {
 		super(tg, name);
 	}
 
 	/**
-	 * ͨѶ׽
-	 * @param socket ׽
+	 * 设置通讯套接字
+	 * @param socket 套接字
 	 * @throws Exception
 	 */
 	public void setSocket(Socket socket) throws Exception{
@@ -87,8 +88,8 @@ class OdbcWorker extends Thread {
 	}
 
 	/*
-	 * Э int:high byte first char:unicode big endian ֵ ȷʱ4byte(>=0
-	 * ӦĴ)+[Ϣ] ʱ4byte(-1)+4byte(󳤶)+[Ϣ]
+	 * 协议 int:high byte first char:unicode big endian 返回值： 正确时，4byte(>=0
+	 * 相应请求的代理号)+[其他信息] 错误时，4byte(-1)+4byte(错误长度)+[错误信息]
 	 */
 	private boolean serveODBC(int reqType, InputStream is, OutputStream os) {
 		try {
@@ -96,11 +97,11 @@ class OdbcWorker extends Thread {
 			OdbcContext context = server.getContext();
 			ConnectionProxyManager cpm = ConnectionProxyManager.getInstance();
 			switch (reqType) {
-			// 1000odbclogin:
-			// 4byte(1000)+4byte(user) + [user] + 4byte(password) +
+			// 1000、odbclogin:
+			// 4byte(1000)+4byte(user长度) + [user] + 4byte(password长度) +
 			// [password]
-			// return: ȷʱ4byte(Ӻ)
-			// ʱ4byte(-1)+4byte(󳤶)+[Ϣ]
+			// return: 正确时，4byte(连接号)
+			// 错误时，4byte(-1)+4byte(错误长度)+[错误信息]
 			case 1000:
 				String user = DataTypes.readString(is);
 				String password = DataTypes.readString(is);
@@ -123,10 +124,10 @@ class OdbcWorker extends Thread {
 					}
 				}
 				break;
-			// * 1001prepare statement dfx or dql:
-			// * 4byte(1001) + 4byte(Ӻ) + 4byte(dfx) + [dfx] +[ArgRowData]
-			// * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-			// * ȷʱ, 4byte( Statement )
+			// * 1001、prepare statement dfx or dql:
+			// * 4byte(1001) + 4byte(连接号) + 4byte(dfx长度) + [dfx] +[ArgRowData]
+			// * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+			// * 正确时, 4byte( Statement号 )
 			case 1001:
 				int connId = DataTypes.readInt(is);
 				String dfx = DataTypes.readString(is);
@@ -144,10 +145,10 @@ class OdbcWorker extends Thread {
 				connProxy.addProxy(sp);
 				writeOdbcResponse(os, stateId, null);
 				break;
-			// * 1002execute statement dfx or dql:
-			// * 4byte(1002) + 4byte(Ӻ) + 4byte(statement)
-			// * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-			// * ȷʱ, 4byte(  )+ 4byte(  )...
+			// * 1002、execute statement dfx or dql:
+			// * 4byte(1002) + 4byte(连接号) + 4byte(statement号)
+			// * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+			// * 正确时, 4byte( 结果集个数 )+ 4byte( 结果集号 )...
 			case 1002:
 				connId = DataTypes.readInt(is);
 				stateId = DataTypes.readInt(is);
@@ -159,10 +160,10 @@ class OdbcWorker extends Thread {
 					DataTypes.writeInt(os, resultIds[i]);
 				}
 				break;
-			// * 1003cancel execute dfx:
-			// * 4byte(1003) + 4byte(Ӻ) + 4byte(statement)
-			// * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-			// * ȷʱ, 4byte( 0 )
+			// * 1003、cancel execute dfx:
+			// * 4byte(1003) + 4byte(连接号) + 4byte(statement号)
+			// * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+			// * 正确时, 4byte( 0 )
 			case 1003:
 				connId = DataTypes.readInt(is);
 				stateId = DataTypes.readInt(is);
@@ -171,10 +172,10 @@ class OdbcWorker extends Thread {
 				sp.cancel();
 				DataTypes.writeInt(os, 0);
 				break;
-			// * 1010ȡṹ
-			// * 4byte(1010) + 4byte(Ӻ) + 4byte(statement) + 4byte(ʶ)
-			// * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-			// * ȷʱ, 4byte(ֶĿ)+4byte(ֶ1)+[ֶ1Ϣ]...
+			// * 1010、获取结果集结构
+			// * 4byte(1010) + 4byte(连接号) + 4byte(statement号) + 4byte(结果集标识号)
+			// * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+			// * 正确时, 4byte(字段数目)+4byte(字段1长度)+[字段1信息]...
 			// *
 			case 1010:
 				connId = DataTypes.readInt(is);
@@ -188,18 +189,18 @@ class OdbcWorker extends Thread {
 					DataTypes.writeInt(os, 0);
 					return true;
 				}
-				// ɹ־
+				// 成功标志
 				int size = columns.length;
 				DataTypes.writeInt(os, size);
 				for (int i = 0; i < size; i++) {
 					DataTypes.writeString(os, columns[i]);
 				}
 				break;
-			// * 1011ȡ
-			// * 4byte(1011) + 4byte(Ӻ)+4byte(statement)+4byte(ʶ) +
+			// * 1011、结果集取数
+			// * 4byte(1011) + 4byte(连接号)+4byte(statement号)+4byte(结果集标识号) +
 			// 4byte(fetchSize)
-			// * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-			// * ȷʱ, 4byte(0)+[ݱ]
+			// * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+			// * 正确时, 4byte(0)+[数据表]
 			// *
 			case 1011:
 				connId = DataTypes.readInt(is);
@@ -212,27 +213,27 @@ class OdbcWorker extends Thread {
 				Sequence data = rsp.fetch(n);
 				DataTypes.checkTable(data);
 				
-				// ɹ־
+				// 成功标志
 				DataTypes.writeInt(os, 0);
 				DataTypes.writeTable(os, data);
 				break;
-//				sqlfirstõcmd=1012(ĳҲ)
-//						Ϊstring(:a=1;b=2),ÿΪk=vʽ÷ֺŸҪǿǽøԡ
-//						ǰsqlfirstósqlfirst=simplesqlfirst=plusݸserver.
-				// * 1012
-				// * 4byte(1012) + 4byte(ֽڴ)+[ֽڴ]
-				// * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-				// * óɹ, 4byte(0)
+//				设置sqlfirst属性用的cmd=1012(若改成其它也行)
+//						内容为string(如:a=1;b=2),每个属性为k=v格式，用分号隔开。主要是考虑将来可设置更多的属性。
+//						当前sqlfirst属性设置成sqlfirst=simple或sqlfirst=plus传递给server.
+				// * 1012、设置属性
+				// * 4byte(1012) + 4byte(分节串长度)+[分节串]
+				// * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+				// * 设置成功, 4byte(0)
 				// *
-			case 1012://sql+
+			case 1012://废弃sql+
 				String properties = DataTypes.readString(is);
-				// ɹ־
+				// 成功标志
 				DataTypes.writeInt(os, 0);
 				break;
-			// * 1018رStatement
-			// * 4byte(1018) + 4byte(Ӻ)+4byte(statement)
-			// * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-			// * ȷʱ, 4byte(0)
+			// * 1018、关闭Statement
+			// * 4byte(1018) + 4byte(连接号)+4byte(statement号)
+			// * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+			// * 正确时, 4byte(0)
 			// *
 			case 1018:
 				connId = DataTypes.readInt(is);
@@ -242,10 +243,10 @@ class OdbcWorker extends Thread {
 				sp.destroy();
 				writeOdbcResponse(os, 0, "Statement:" + stateId + " is closed.");
 				break;
-			// * 1020رս
-			// * 4byte(1020) + 4byte(Ӻ)+4byte(statement)+4byte(ʶ)
-			// * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-			// * ȷʱ, 4byte(0)
+			// * 1020、关闭结果集
+			// * 4byte(1020) + 4byte(连接号)+4byte(statement号)+4byte(结果集标识号)
+			// * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+			// * 正确时, 4byte(0)
 			// *
 			case 1020:
 				connId = DataTypes.readInt(is);
@@ -258,10 +259,10 @@ class OdbcWorker extends Thread {
 				writeOdbcResponse(os, 0, "ResultSet:" + resultId
 						+ " is closed.");
 				break;
-//				 * 1050г洢̣ͨdfx
-//				 * 4byte(1050) + 4byte(Ӻ) + 4byte() + []
-//				 * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-//				 *         ȷʱ, 4byte(0)+[̶ʽ洢бϢ]
+//				 * 1050、列出存储过程；根据通配符，搜索dfx名称
+//				 * 4byte(1050) + 4byte(连接号) + 4byte(搜索串长度) + [搜索串]
+//				 * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+//				 *         正确时, 4byte(0)+[固定格式存储过程列表信息表]
 //				 *
 			case 1050:
 				connId = DataTypes.readInt(is);
@@ -283,21 +284,21 @@ class OdbcWorker extends Thread {
 					int paramCount = getParamCount(path);
 					storeInfos.newLast(new Object[]{"","",dfxName,paramCount,-1,-1,"",2});
 				}
-				// ɹ־
+				// 成功标志
 				DataTypes.writeInt(os, 0);
 				DataTypes.writeTable(os, storeInfos);
 				break;
-//				 * 1051ȡ洢ϸϢ
-//				 * 4byte(1051) + 4byte(洢) + []
-//				 * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-//				 *         ȷʱ, 4byte(0)+[̶ʽ洢Ϣ]
+//				 * 1051、获取存储过程详细信息表
+//				 * 4byte(1051) + 4byte(存储过程名长度) + [名称]
+//				 * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+//				 *         正确时, 4byte(0)+[固定格式存储过程信息表]
 //				 *
 				
 				
-//				 * 1060гϢ
-//				 * 4byte(1060) + 4byte(Ӻ) + 4byte(Ƴ) + []
-//				 * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-//				 *         ȷʱ, 4byte(ֶĿ)+4byte(ֶ1)+[ֶ1Ϣ]...+[Ϣݱ]
+//				 * 1060、列出表信息；
+//				 * 4byte(1060) + 4byte(连接号) + 4byte(表名称长度) + [表名字]
+//				 * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+//				 *         正确时, 4byte(字段数目)+4byte(字段1长度)+[字段1信息]...+[表信息数据表]
 			case 1060:
 				connId = DataTypes.readInt(is);
 				String tableName = DataTypes.readString(is);
@@ -306,10 +307,10 @@ class OdbcWorker extends Thread {
 				DataTypes.writeDatastructAndData(os, table);
 				break;
 				
-//				 * 1061гֶϢ
-//				 * 4byte(1061) + 4byte(Ӻ) + 4byte(Ƴ) + []+ 4byte(ֶγ) + [ֶ]
-//				 * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-//				 *         ȷʱ, 4byte(ֶĿ)+4byte(ֶ1)+[ֶ1Ϣ]...+[Ϣݱ]
+//				 * 1061、列出字段信息；
+//				 * 4byte(1061) + 4byte(连接号) + 4byte(表名称长度) + [表名字]+ 4byte(字段长度) + [字段]
+//				 * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+//				 *         正确时, 4byte(字段数目)+4byte(字段1长度)+[字段1信息]...+[表信息数据表]
 			case 1061:
 				connId = DataTypes.readInt(is);
 				tableName = DataTypes.readString(is);
@@ -319,10 +320,10 @@ class OdbcWorker extends Thread {
 				DataTypes.writeDatastructAndData(os, table);
 				break;
 				
-			// * 1111ر
-			// * 4byte(1111) + 4byte(Ӻ)
-			// * return: ʱ, 4byte(-1:)+4byte(󳤶)+[Ϣ]
-			// * ȷʱ, 4byte(0)
+			// * 1111、关闭连接
+			// * 4byte(1111) + 4byte(连接号)
+			// * return: 错误时, 4byte(-1:计算出错)+4byte(错误长度)+[错误信息]
+			// * 正确时, 4byte(0)
 			// *
 			case 1111:
 				connId = DataTypes.readInt(is);
@@ -331,7 +332,7 @@ class OdbcWorker extends Thread {
 				os.flush();
 				connProxy.destroy();
 				return false;
-				// رSocket
+				// 关闭Socket
 			case 2222:
 				return false;
 			}
@@ -372,43 +373,79 @@ class OdbcWorker extends Thread {
 	}
 
 	/**
-	 * й
+	 * 运行工作任务
 	 */
 	public void run() {
 		try {
-			InputStream is = in;
-			OutputStream os = out;
 			while (!stop) {
 				int reqType = 0;
 				try{
-					reqType = DataTypes.readInt(is);
+					reqType = DataTypes.readInt(in);
 				}catch (java.net.SocketTimeoutException e) {
 					continue;
 				}
 
-				if (reqType == -1) {
-					// رշ
-					OdbcServer.getInstance().shutDown();
-					return;
-				}
-
-				// رշ߳
-				if (reqType == -2) {
+				if (!serveRequest(reqType)) {
 					break;
 				}
-
-				if (reqType > 0) {
-					if (serveODBC(reqType, is, os)) {
-						os.flush();
-						continue;
-					}
-					break;
-				}
-				break;
 			}
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
+		close();
+	}
+	
+	/**
+	 * 处理已经到达的请求，至少处理一个，用于分派器方式的服务
+	 * @return true：继续等待下一个请求，false：连接已结束
+	 * @throws Exception
+	 */
+	public boolean serve() throws Exception {
+		do {
+			if (stop || !serveRequest(DataTypes.readInt(in))) {
+				return false;
+			}
+		} while (hasInput());
+		
+		return true;
+	}
+	
+	/**
+	 * 返回是否有已收到还没处理的请求数据
+	 * @return boolean
+	 * @throws IOException
+	 */
+	public boolean hasInput() throws IOException {
+		return in.available() > 0;
+	}
+	
+	// 处理一个请求，返回false表示连接结束
+	private boolean serveRequest(int reqType) throws Exception {
+		if (reqType == -1) {
+			// 关闭服务器
+			OdbcServer.getInstance().shutDown();
+			return false;
+		}
+
+		// 关闭服务线程
+		if (reqType == -2) {
+			return false;
+		}
+
+		if (reqType > 0) {
+			if (serveODBC(reqType, in, out)) {
+				out.flush();
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * 关闭连接
+	 */
+	public void close() {
 		try {
 			in.close();
 			out.close();
@@ -5,7 +5,7 @@ import com.scudata.dm.cursor.ICursor;
 import com.scudata.server.IProxy;
 
 /**
- * 
+ * 结果集代理
  * @author Joancy
  *
  */
@@ -15,10 +15,10 @@ public class ResultSetProxy extends IProxy {
 	Sequence row = null;
 	
 	/**
-	 * 
-	 * @param sp Statement
-	 * @param id 
-	 * @param cs α
+	 * 创建结果集代理
+	 * @param sp Statement代理
+	 * @param id 代理号
+	 * @param cs 游标
 	 */
 	public ResultSetProxy(StatementProxy sp, int id, ICursor cs) {
 		super(sp, id);
@@ -27,16 +27,16 @@ public class ResultSetProxy extends IProxy {
 	}
 
 	/**
-	 * ȡα
-	 * @return α
+	 * 获取游标对象
+	 * @return 游标
 	 */
 	public ICursor getCursor() {
 		return cs;
 	}
 
 	/**
-	 * ȡֶ
-	 * @return ֶ
+	 * 获取字段名
+	 * @return 字段名数组
 	 */
 	public String[] getColumns(){
 		if(columns==null){
@@ -67,16 +67,16 @@ public class ResultSetProxy extends IProxy {
 	}
 
 	/**
-	 * ȡ
-	 * @param n ȡ
-	 * @return 
+	 * 取数
+	 * @param n 取数条数
+	 * @return 数据序表
 	 */
 	public Sequence fetch(int n) {
 		Sequence tmp;
 		if(row!=null){
 			Object val = row.get(1);
 			tmp = cs.fetch(n-1);
-			if(tmp==null){//պֻһм¼ʱ
+			if(tmp==null){//如果结果集刚好只有一行记录时
 				tmp = row;
 			}else{
 				tmp.insert(1, val);
@@ -90,14 +90,14 @@ public class ResultSetProxy extends IProxy {
 	}
 
 	/**
-	 * ʵtoStringӿ
+	 * 实现toString接口
 	 */
 	public String toString() {
 		return "ResultSet "+getId();
 	}
 	
 	/**
-	 * رյǰ
+	 * 关闭当前代理器
 	 */
 	public void close(){
 		cs.close();
@@ -20,7 +20,7 @@ import com.scudata.server.unit.UnitServer;
 import com.scudata.util.DatabaseUtil;
 
 /**
- * Statement
+ * Statement代理器
  * 
  * @author Joancy
  *
@@ -33,11 +33,11 @@ public class StatementProxy extends IProxy {
 	Task task = null;
 
 	/**
-	 * Statement
-	 * @param cp Ӵ
-	 * @param id 
-	 * @param cmd ѯ
-	 * @param params 
+	 * 创建Statement代理器
+	 * @param cp 连接代理
+	 * @param id 代理编号
+	 * @param cmd 查询命令
+	 * @param params 参数数组
 	 * @throws Exception
 	 */
 	public StatementProxy(ConnectionProxy cp, int id, String cmd,
@@ -53,22 +53,22 @@ public class StatementProxy extends IProxy {
 			standardizeDfx();
 			String spaceId = UUID.randomUUID().toString();
 			task = new Task(dfx, args, id, spaceId);
-		} else {//ʽ
+		} else {//否则表达式
 		}
 		access();
 	}
 
 	/**
-	 * ȡӴ
-	 * @return Ӵ
+	 * 获取连接代理器
+	 * @return 连接代理器
 	 */
 	public ConnectionProxy getConnectionProxy() {
 		return (ConnectionProxy) getParent();
 	}
 
 	/**
-	 * ȡ,call dfx: {call("a",2,?)}
-	 * @return ҪִеĲѯ
+	 * 获取命令,可能是call dfx: {call("a",2,?)}
+	 * @return 要执行的查询命令
 	 */
 	public String getCmd() {
 		return cmd;
@@ -108,7 +108,7 @@ public class StatementProxy extends IProxy {
 		return dfxName;
 	}
 	
-//ݵ˫
+//兼容单，双引号
 	private static String adjustQuote(String args){
 		ArgumentTokenizer at1 = new ArgumentTokenizer( args );
 		StringBuffer buf = new StringBuffer();
@@ -147,17 +147,17 @@ public class StatementProxy extends IProxy {
 	}
 
 	/**
-	 * ȡֵ
-	 * @return б
+	 * 取参数值
+	 * @return 参数列表
 	 */
 	public List<String> getParams() {
 		return params;
 	}
 
 	/**
-	 * ȡ
-	 * @param id 
-	 * @return 
+	 * 获取结果集代理
+	 * @param id 代理编号
+	 * @return 结果集代理器
 	 * @throws Exception
 	 */
 	public ResultSetProxy getResultSetProxy(int id) throws Exception{
@@ -170,8 +170,8 @@ public class StatementProxy extends IProxy {
 	}
 
 	/**
-	 * ִеǰ
-	 * @return Ĵ
+	 * 执行当前命令
+	 * @return 结果集的代理号数组
 	 * @throws Exception
 	 */
 	public int[] execute() throws Exception {
@@ -222,9 +222,9 @@ public class StatementProxy extends IProxy {
 	}
 
 	/**
-	 * ȡǰ
-	 * dfxdfx.interrupt()ɶҲ
-	 * @return ȡɹtrue
+	 * 取消当前任务
+	 * 若dfx运行中则dfx.interrupt()，否则啥也不干
+	 * @return 取消成功，返回true
 	 * @throws Exception
 	 */
 	public boolean cancel() throws Exception {
@@ -236,32 +236,32 @@ public class StatementProxy extends IProxy {
 	}
 
 	/**
-	 * ȡʼʱ䣬δʼЧж򷵻-1
-	 * @return ʼʱ䣬ʾ
+	 * 取开始计算时间，未开始或有效被中断则返回-1
+	 * @return 开始计算的时间，整数表示
 	 */
 	public long getStartTime() {
 		return task.getCallTime();
 	}
 
 	/**
-	 * ȡʱ䣬δɻЧж򷵻-1
-	 * @return ʱ
+	 * 取计算结束时间，未完成或有效被中断则返回-1
+	 * @return 结束时间
 	 */
 	public long getEndTime() {
 		return task.getFinishTime();
 	}
 
-	// closeʱرResultSetProxyConnectionProxyɾԼ
+	// close时关闭所有ResultSetProxy，并从ConnectionProxy删除自己
 
 	/**
-	 * ص
+	 * 设结果集返回的最大行数
 	 * @param max
 	 */
 	public void setMaxRows(int max) {
 	}
 
 	/**
-	 * Ƿһ
+	 * 是否有下一个结果集
 	 * @return false
 	 */
 	public boolean hasNextResultSet() {
@@ -269,10 +269,10 @@ public class StatementProxy extends IProxy {
 	}
 
 	/**
-	 * һdfxdqlصķICursorҪװICursor
-	 * ͨȷװ
-	 * зװMemoryCursor
-	 * ǰ̨ʱͨйɵα򷵻Ϊ_1Ľ
+	 * 下一结果集，dfx或dql返回的非ICursor需要封装成ICursor
+	 * 单个普通对象先封装成序列
+	 * 单个序列封装成MemoryCursor
+	 * 向前台发送时若是普通序列构成的游标则返回列名为_1的结果集
 	 * @return null
 	 */
 	public ICursor nextResultSet() {
@@ -280,13 +280,13 @@ public class StatementProxy extends IProxy {
 	}
 
 	/**
-	 * رյǰ
+	 * 关闭当前代理
 	 */
 	public void close() {
 	}
 
 	/**
-	 * ʵtoString
+	 * 实现toString方法
 	 */
 	public String toString() {
 		return "Statement " + getId();
@@ -11,7 +11,7 @@ import com.scudata.server.IProxy;
 import com.scudata.util.DatabaseUtil;
 
 /**
- * Ӵ
+ * 连接代理对象
  * 
  * @author Joancy
  *
@@ -23,10 +23,10 @@ public class ConnectionProxy extends IProxy
 	boolean closed = false;
 
 	/**
-	 * һӴ
-	 * @param cpm Ӵ
-	 * @param id 
-	 * @param spaceId ռ
+	 * 创建一个连接代理
+	 * @param cpm 连接代理管理器
+	 * @param id 代理编号
+	 * @param spaceId 空间编号
 	 */
 	public ConnectionProxy(ConnectionProxyManager cpm, int id, String spaceId){
 		super(cpm, id);
@@ -48,9 +48,9 @@ public class ConnectionProxy extends IProxy
 	}
 	
 	/**
-	 * idȡStatement
-	 * @param id 
-	 * @return Statement
+	 * 根据id获取Statement代理器
+	 * @param id 代理编号
+	 * @return Statement代理器
 	 * @throws Exception
 	 */
 	public StatementProxy getStatementProxy(int id) throws Exception{
@@ -62,30 +62,30 @@ public class ConnectionProxy extends IProxy
 	}
 	
 	/**
-	 * ȡ㻷
-	 * @return 
+	 * 获取计算环境上下文
+	 * @return 环境上下文
 	 */
 	public Context getContext(){
 		return context;
 	}
 	/**
-	 * ȡռ
-	 * @return ռ
+	 * 获取任务空间号
+	 * @return 空间编号
 	 */
 	public String getSpaceId(){
 		return spaceId;
 	}
 	
 	/**
-	 * жǷѹر
-	 * @return رշtrue򷵻false
+	 * 判断连接是否已关闭
+	 * @return 关闭返回true，否则返回false
 	 */
 	public boolean isClosed(){
 		return closed;
 	}
 	
 	/**
-	 * صǰӴ
+	 * 关掉当前连接代理器
 	 */
 	public void close() {
 		closed = true;
@@ -93,7 +93,7 @@ public class ConnectionProxy extends IProxy
 	}
 
 	/**
-	 * ʵtoStringӿ
+	 * 实现toString接口
 	 */
 	public String toString() {
 		return "Connection "+getId();
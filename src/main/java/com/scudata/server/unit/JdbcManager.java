@@ -12,7 +12,7 @@ import com.scudata.parallel.TaskManager;
 import com.scudata.server.ConnectionProxyManager;
 
 /**
- * JDBC
+ * JDBC管理器
  * 
  * @author Joancy
  *
@@ -26,9 +26,9 @@ public class JdbcManager {
 	}
 
 	/**
-	 * ִJDBC
-	 * @param req 
-	 * @return Ӧ
+	 * 执行JDBC请求
+	 * @param req 请求对象
+	 * @return 响应结果
 	 */
 	public static Response execute(Request req) {
 		ConnectionProxyManager cpm = ConnectionProxyManager.getInstance();
@@ -104,8 +104,8 @@ public class JdbcManager {
 				stateId = UnitServer.nextId();
 				StatementProxy sp = new StatementProxy(connProxy, stateId, dfx,
 						argList, envParams);
-				// StatementProxyڻα꣬αĹTaskManagerԸöͬʱ
-				// ConnectionProxyԼTaskManager
+				// StatementProxy由于会产生游标，而游标的管理从属于TaskManager，所以该对象同时
+				// 记在ConnectionProxy以及TaskManager里面
 				connProxy.addProxy(sp);
 				TaskManager.addTask(sp);
 				res.setResult(stateId);
@@ -11,7 +11,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.parallel.Request;
 
 /**
- * JDBCִ
+ * JDBC执行任务
  * 
  * @author Joancy
  *
@@ -24,11 +24,11 @@ public class JdbcTask {
 	Thread execThread = null;
 
 	/**
-	 * һJDBC
-	 * @param cmd ִе
-	 * @param args б
-	 * @param ctx 
-	 * @param envParams 
+	 * 创建一个JDBC任务
+	 * @param cmd 任务执行的命令
+	 * @param args 参数列表
+	 * @param ctx 计算上下文
+	 * @param envParams 环境参数
 	 */
 	public JdbcTask(String cmd, ArrayList args, Context ctx,
 			Map<String, Object> envParams) {
@@ -39,8 +39,8 @@ public class JdbcTask {
 	}
 
 	/**
-	 * ִеǰ
-	 * @return 
+	 * 执行当前任务
+	 * @return 结果序表
 	 * @throws Exception
 	 */
 	public Sequence execute() throws Exception {
@@ -60,8 +60,8 @@ public class JdbcTask {
 	}
 
 	/**
-	 * ȡǰ
-	 * @return ɹȡtrue
+	 * 取消当前任务
+	 * @return 成功取消返回true
 	 * @throws Exception
 	 */
 	public boolean cancel() throws Exception {
@@ -80,16 +80,16 @@ public class JdbcTask {
 	}
 
 	/**
-	 * ȡִdfx
-	 * @return 
+	 * 获取执行命令，比如dfx名称
+	 * @return 命令
 	 */
 	public String getCmd() {
 		return cmd;
 	}
 
 	/**
-	 * ȡб
-	 * @return dfx
+	 * 获取参数列表
+	 * @return dfx参数
 	 */
 	public ArrayList getArgs() {
 		return args;
@@ -9,7 +9,7 @@ import com.scudata.parallel.UnitClient;
 import com.scudata.parallel.UnitContext;
 
 /**
- * ͨԶ̹رշ
+ * 通过命令远程关闭服务器
  * 
  * @author Joancy
  *
@@ -21,8 +21,8 @@ public class ShutdownUnitServer {
 	}
 
 	/**
-	 * ʶȡзֻϢȻرзֻ
-	 * @return ȷػtrue򷵻false
+	 * 从配置问读取所有分机信息，然后关闭所有分机
+	 * @return 正确关机返回true，否则返回false
 	 * @throws Exception
 	 */
 	public static boolean autoClose() throws Exception{
@@ -49,10 +49,10 @@ public class ShutdownUnitServer {
 	}
 
 	/**
-	 * رָķ
-	 * @param host IP
-	 * @param port ˿ں
-	 * @return ɹػtrue򷵻false
+	 * 关闭指定的服务器
+	 * @param host 服务器IP
+	 * @param port 端口号
+	 * @return 成功关机返回true，否则返回false
 	 */
 	public static boolean close(String host, int port){
 		if(!StringUtils.isValidString(host)){
@@ -85,7 +85,7 @@ public class ShutdownUnitServer {
 			for (int i = 0; i < args.length; i++) {
 				arg = args[i].toLowerCase();
 				// System.err.println("arg "+i+"="+arg);
-				if (arg.equals("com.raqsoft.parallel.shutdownunitserver")) { // bat򿪵ļǲ
+				if (arg.equals("com.raqsoft.parallel.shutdownunitserver")) { // 用bat打开的文件，类名本身会是参数
 					continue;
 				}
 
@@ -17,7 +17,7 @@ import com.scudata.parallel.UnitContext;
 import com.scudata.server.IProxy;
 
 /**
- * Statement 
+ * Statement 代理器
  * 
  * @author Joancy
  *
@@ -31,12 +31,12 @@ public class StatementProxy extends IProxy implements ITask {
 	RemoteCursorProxyManager rcpm = null;
 
 	/**
-	 * һStatement
-	 * @param cp Ӵ
-	 * @param id 
-	 * @param cmd ִе
-	 * @param params б
-	 * @param envParams 
+	 * 创建一个Statement代理器
+	 * @param cp 连接代理
+	 * @param id 代理编号
+	 * @param cmd 执行的命令
+	 * @param params 参数列表
+	 * @param envParams 环境参数
 	 * @throws Exception
 	 */
 	public StatementProxy(ConnectionProxy cp, int id, String cmd,
@@ -55,31 +55,31 @@ public class StatementProxy extends IProxy implements ITask {
 	}
 
 	/**
-	 * ȡӴ
-	 * @return Ӵ
+	 * 获取连接代理器
+	 * @return 连接代理器
 	 */
 	public ConnectionProxy getConnectionProxy() {
 		return (ConnectionProxy) getParent();
 	}
 
 	/**
-	 * ȡҪִе
-	 * @return 
+	 * 获取要执行的命令
+	 * @return 命令
 	 */
 	public String getCmd() {
 		return cmd;
 	}
 
 	/**
-	 * ȡֵ
-	 * @return б
+	 * 获取参数值
+	 * @return 参数列表
 	 */
 	public List<String> getParams() {
 		return params;
 	}
 
 	/**
-	 * ȡα
+	 * 获取结果集的游标代理管理器
 	 */
 	public RemoteCursorProxyManager getCursorManager() {
 		if (rcpm == null) {
@@ -89,8 +89,8 @@ public class StatementProxy extends IProxy implements ITask {
 	}
 
 	/**
-	 * ִеǰ
-	 * @return 
+	 * 执行当前命令
+	 * @return 结果序表
 	 * @throws Exception
 	 */
 	public Sequence execute() throws Exception {
@@ -123,8 +123,8 @@ public class StatementProxy extends IProxy implements ITask {
 	}
 
 	/**
-	 * ȡǰ
-	 * @return ɹȡtrue
+	 * 取消当前任务
+	 * @return 成功取消返回true
 	 * @throws Exception
 	 */
 	public boolean cancel() throws Exception {
@@ -133,20 +133,20 @@ public class StatementProxy extends IProxy implements ITask {
 	}
 
 	/**
-	 * رյǰ
+	 * 关闭当前代理器
 	 */
 	public void close() {
 	}
 
 	/**
-	 * ʵtoStringӿ
+	 * 实现toString接口
 	 */
 	public String toString() {
 		return "Statement " + getId();
 	}
 
 	/**
-	 * ȡID
+	 * 获取任务ID
 	 */
 	public int getTaskID() {
 		return getId();
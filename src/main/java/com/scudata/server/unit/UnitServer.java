@@ -11,23 +11,25 @@ import com.scudata.common.*;
 import com.scudata.dm.*;
 import com.scudata.parallel.*;
 import com.scudata.resources.ParallelMessage;
+import com.scudata.server.ConnectionDispatcher;
 import com.scudata.server.IServer;
 import com.scudata.server.StartUnitListener;
 
 import java.text.*;
 
 /**
- * ͼη
- * ܵGMide࣬ ֻ
+ * 非图形服务器
+ * 不能调用GM等ide的类， 分机
  * 
  * @author Joancy
  *
  */
 public class UnitServer implements IServer {
 	public static UnitServer instance;
-	public static String version = "Inner version20211216";
+	public static String version = "Inner version：20211216";
 	
 	ServerSocket serverSocket = null;
+	ConnectionDispatcher dispatcher = null; // 选择器方式服务时的连接分派器
 	UnitContext unitContext=null;
  
 	TempFileMonitor tempFileMonitor = null;
@@ -35,7 +37,7 @@ public class UnitServer implements IServer {
 	
 	private volatile boolean stop = true;
 
-//	exeʱָ
+//	exe启动时指定参数
 	private String specifyHost=null;
 	private int specifyPort = 0;
 		
@@ -48,27 +50,27 @@ public class UnitServer implements IServer {
 	private static Response initResult = new Response();
 	
 	/**
-	 * û
+	 * 设置环境配置
 	 */
 	public void setRaqsoftConfig(RaqsoftConfig rc){
 		this.rc = rc;
 	}
 	/**
-	 * ȡö
+	 * 获取环境参数配置对象
 	 */
 	public RaqsoftConfig getRaqsoftConfig(){
 		return rc;
 	}
 	
 	/**
-	 * ÷״̬
+	 * 设置服务器状态侦听类
 	 */
 	public void setStartUnitListener(StartUnitListener listen){
 		listener = listen;
 	}
 	
 	/**
-	 * ȡ㻷
+	 * 获取计算环境上下文
 	 * @return
 	 */
 	public UnitContext getUnitContext() {
@@ -87,9 +89,9 @@ public class UnitServer implements IServer {
 	}
 	
 	/**
-	 * ֻڲΨһ
-	 * ڴŵȸֲͬŵĵط
-	 * @return Ψһ
+	 * 分机服务器内部产生唯一编号
+	 * 用于代理号等各种不能同号的地方
+	 * @return 服务器内唯一编号
 	 */
 	public static int nextId() {
 		synchronized (idLock) {
@@ -103,8 +105,8 @@ public class UnitServer implements IServer {
 	}
 
 	/**
-	 * ڴռʣڵ
-	 * @param msg ʾϢ
+	 * 打出内存占用率，用于调试
+	 * @param msg 显示的消息
 	 */
 	public static void debugMemory(String msg) {
 		DecimalFormat df = new DecimalFormat("###,###");
@@ -129,9 +131,9 @@ public class UnitServer implements IServer {
 	}
 
 	/**
-	 * ִзֻ
-	 * @param req 
-	 * @return Ӧ
+	 * 执行分机的请求
+	 * @param req 请求对象
+	 * @return 响应结果
 	 */
 	public Response execute(Request req) {
 		Response res = new Response();
@@ -220,8 +222,8 @@ public class UnitServer implements IServer {
 	}
 
 	/**
-	 * ȡֻΨһʵļ˳
-	 * @return ֻʵ
+	 * 获取分机唯一实例，从配置文件顺序产生
+	 * @return 分机服务器实例
 	 * @throws Exception
 	 */
 	public static UnitServer getInstance() throws Exception {
@@ -229,10 +231,10 @@ public class UnitServer implements IServer {
 	}
 	
 	/**
-	 * ߻ȡַָķֻ
-	 * @param specifyHost IPַ
-	 * @param specifyPort ˿ں
-	 * @return ֻʵ
+	 * 启动或者获取指定地址的分机
+	 * @param specifyHost IP地址
+	 * @param specifyPort 端口号
+	 * @return 分机实例
 	 * @throws Exception
 	 */
 	public static UnitServer getInstance(String specifyHost, int specifyPort) throws Exception {
@@ -262,15 +264,15 @@ public class UnitServer implements IServer {
 	
 	
 	/**
-	 * Ƿڳʼ
-	 * @return ʼʱtrue򷵻false
+	 * 服务器是否正在初始化环境
+	 * @return 初始化时返回true，否则返回false
 	 */
 	public static boolean isIniting(){
 		return isIniting;
 	}
 	
 	/**
-	 * ĵ
+	 * 检查上下文的设置
 	 * @throws Exception
 	 */
 	public void checkContext() throws Exception{
@@ -281,10 +283,10 @@ public class UnitServer implements IServer {
 	}
 	
 	/**
-	 * ʹò÷ֻĳʼļinit.splx
-	 * @param iiֻi=0ʾֻʱ̵ĵ
-	 * @param NNֻ
-	 * @param j
+	 * 使用参数调用分机的初始化文件init.splx
+	 * @param i，第i个分机，i=0表示分机启动时刻的调用
+	 * @param N，共N个分机
+	 * @param j，任务名称
 	 * @return
 	 */
 	public static Response init(final int i, final int N, final String j){
@@ -299,11 +301,11 @@ public class UnitServer implements IServer {
 	}
 	
 	/**
-	 * ִгʼinit.dfxű
-	 * @param z ֻ
-	 * @param N ܹмֻ̨
-	 * @param waitResult Ƿȴʼ̨ȣͼο̨ȴ
-	 * ̨ȴؽɽ汻
+	 * 执行初始化init.dfx脚本
+	 * @param z 分机的序号
+	 * @param N 总共有几台分机
+	 * @param waitResult 是否等待初始化结果，界面控制台不等，非图形控制台等待
+	 * 界面控制台如果等待返回结果，则会造成界面被锁死
 	 * @return
 	 */
 	public static Response init(final int i,final int N, final String j, final boolean waitResult){
@@ -339,7 +341,7 @@ public class UnitServer implements IServer {
 				args.add(j);
 				String spaceId = UUID.randomUUID().toString();
 				Task task = new Task(dfx, args, intId, spaceId);
-				// TaskҲӡʼ
+				// Task也会打印开始结束
 				initResult = task.execute();
 				Logger.debug(msg+" finished.");
 				synchronized (initLock) {
@@ -363,7 +365,7 @@ public class UnitServer implements IServer {
 	}
 	
 	/**
-	 * зֻ
+	 * 运行分机，启动服务
 	 */
 	public void run(){
 		Logger.info(version);
@@ -374,9 +376,18 @@ public class UnitServer implements IServer {
 			checkContext();
 			String host = unitContext.getLocalHost();
 			InetAddress add = InetAddress.getByName(host);
-			serverSocket = new ServerSocket(unitContext.getLocalPort(), 10, add);
-			int timeOut = 3;
-			serverSocket.setSoTimeout(timeOut * 1000);
+			if (ConnectionDispatcher.isEnabled()) {
+				dispatcher = new ConnectionDispatcher("UnitWorker", add, unitContext.getLocalPort(), 10, 
+						new ConnectionDispatcher.HandlerFactory() {
+					public ConnectionDispatcher.Handler create(Socket socket) throws Exception {
+						return createWorker(null, socket);
+					}
+				});
+			} else {
+				serverSocket = new ServerSocket(unitContext.getLocalPort(), 10, add);
+				int timeOut = 3;
+				serverSocket.setSoTimeout(timeOut * 1000);
+			}
 		} catch (Exception x) {
 			if(listener!=null){
 				listener.serverStartFail();
@@ -405,35 +416,36 @@ public class UnitServer implements IServer {
 		}
 		setStop(false,unitContext.getLocalPort());
 
+		if (dispatcher != null) {
+			// 连接由分派器接受，有请求时交给工作线程池处理
+			dispatcher.start();
+			try {
+				dispatcher.join();
+			} catch (InterruptedException e) {
+			}
+			
+			stop = true;
+		}
+		
 		while ( !stop ) {
 			Socket socket = null;
 			boolean isThreadStart = false;
 			try {
 				socket = serverSocket.accept();
-				SocketData sd = new SocketData(socket);
-				sd.holdCommunicateStreamServer();
-				UnitWorker uw = new UnitWorker(threadGroup,"UnitWorker");
-				uw.setSocket(sd);
-				if( unitContext.isCheckClients() ){
-					InetAddress ia = socket.getInetAddress();
-					String client = ia.getHostAddress();
-					if(!unitContext.checkClientIP( client )){
-						uw.setErrorCheck( client );
-					}
-				}
+				UnitWorker uw = createWorker(threadGroup, socket);
 				uw.start();
 				isThreadStart = true;
 			} catch (java.net.SocketTimeoutException ste) {
-//	˽ܿͻsocket3ʱѭܵʱ乩stop񣬸쳣Ϣڿ̨			
+//	服务端接受客户端socket，3秒后超时，再循环。留出继续跑的时间供设置stop后结束服务，该异常消息不在控制台输出			
 			} catch (InterruptedIOException e) {
 				e.printStackTrace();
 			} catch (java.net.SocketException se) {
 				se.printStackTrace();
-			} catch (Throwable t) {//ڴʱ
-				t.printStackTrace(); // ĳsocket쳣ʱܵ
+			} catch (Throwable t) {//或者内存溢出时
+				t.printStackTrace(); // 某个socket的流异常时，不能倒服务器
 			}finally{
 				if(socket!=null && !isThreadStart){
-//					߳ǰѾ쳣رsocket
+//					如果线程启动以前就已经异常，则在这里关闭socket
 					try {
 						socket.close();
 					} catch (IOException e) {
@@ -464,10 +476,27 @@ public class UnitServer implements IServer {
 		if( isQuit ) {
 			System.exit(0);
 		}
-	} // 
+	} // 启动服务
 
+	// 为客户端连接创建作业线程，线程组为空时由分派器的工作线程调用
+	private UnitWorker createWorker(ThreadGroup threadGroup, Socket socket) throws Exception {
+		SocketData sd = new SocketData(socket);
+		sd.holdCommunicateStreamServer();
+		UnitWorker uw = new UnitWorker(threadGroup,"UnitWorker");
+		uw.setSocket(sd);
+		if( unitContext.isCheckClients() ){
+			InetAddress ia = socket.getInetAddress();
+			String client = ia.getHostAddress();
+			if(!unitContext.checkClientIP( client )){
+				uw.setErrorCheck( client );
+			}
+		}
+		
+		return uw;
+	}
+	
 	/**
-	 * жϵǰǷ
+	 * 判断当前服务器是否正在运行中
 	 */
 	public synchronized boolean isRunning() {
 		return !stop;
@@ -482,22 +511,25 @@ public class UnitServer implements IServer {
 
 	boolean isQuit = false;
 	/**
-	 * ˳
+	 * 退出服务器
 	 */
 	public void quit(){
 		isQuit = true;
 	}
 	
 	/**
-	 * ֹͣ
+	 * 停止服务器
 	 */
 	public void shutDown() {
 		stop = true;
-	} // ֹз̣߳رշ
+		if (dispatcher != null) {
+			dispatcher.stopDispatch();
+		}
+	} // 终止所有服务线程，立即关闭服务器
 
 	/**
-	 * ȡhome·
-	 * @return home·
+	 * 获取服务器的home路径
+	 * @return home路径
 	 */
 	public static String getHome() {
 		String home = System.getProperty("start.home");
@@ -508,8 +540,8 @@ public class UnitServer implements IServer {
 	}
 
 	/**
-	 * ں
-	 * @param args 
+	 * 服务器入口函数
+	 * @param args 启动参数
 	 */
 	public static void main(String[] args) {
 		try {
@@ -519,7 +551,7 @@ public class UnitServer implements IServer {
 			
 			for (int i = 0; i < args.length; i++) {
 				String buf = args[i];
-//				HostManagerĲһոֿĴٴν⿪
+//				从HostManager发过来的参数，到了这里变成一个空格分开的串，再次解开
 				if(buf.indexOf(" ")>-1){
 					StringTokenizer st = new StringTokenizer(buf," ");
 					while(st.hasMoreTokens()){
@@ -550,22 +582,22 @@ public class UnitServer implements IServer {
 	}
 
 	/**
-	 * ȡǰHost
+	 * 获取当前服务器的Host
 	 */
 	public String getHost() {
 		return unitContext.toString();
 	}
 
 	/**
-	 * ȡֻIP
-	 * @return ipַ
+	 * 获取分机IP
+	 * @return ip地址
 	 */
 	public String getIP() {
 		return unitContext.getLocalHost();
 	}
 	
 	/**
-	 * ǰǷԶ
+	 * 当前服务器是否是自动启动的
 	 */
 	public boolean isAutoStart() {
 		try{
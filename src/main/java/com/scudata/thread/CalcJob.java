@@ -8,18 +8,18 @@ import com.scudata.dm.Sequence;
 import com.scudata.expression.Expression;
 
 /**
- * ִA.()
+ * 用于执行A.()的任务
  * @author RunQian
  *
  */
 class CalcJob extends Job {
-	private Sequence src; // Դ
-	private int start; // ʼλã
-	private int end; // λã
+	private Sequence src; // 源序列
+	private int start; // 起始位置，包括
+	private int end; // 结束位置，不包括
 	
-	private Expression exp; // ʽ
-	private Context ctx; // 
-	private Sequence result; // ڴŽ
+	private Expression exp; // 计算表达式
+	private Context ctx; // 计算上下文
+	private Sequence result; // 用于存放结果集
 	
 	public CalcJob(Sequence src, int start, int end, Expression exp, Context ctx, Sequence result) {
 		this.src = src;
@@ -4,7 +4,7 @@ import com.scudata.dm.Sequence;
 import com.scudata.dm.cursor.ICursor;
 
 /**
- * ڲαݵJob
+ * 用于产生遍历游标数据的Job
  * @author WangXiaoJun
  *
  */
@@ -3,7 +3,7 @@ package com.scudata.thread;
 import java.util.Date;
 
 /**
- * ִ
+ * 用于执行排序的任务
  * @author RunQian
  *
  */
@@ -11,11 +11,11 @@ class DateSortJob extends Job {
 	private Date []src;
 	private Date []dest;
 	
-	private int fromIndex; // ʼλã
-	private int toIndex; // λã
-	private int off; // ƫ
+	private int fromIndex; // 起始位置，包含
+	private int toIndex; // 结束位置，不包含
+	private int off; // 两个数组的偏移量
 	
-	private int threadCount; // ߳
+	private int threadCount; // 排序线程数
 	
 	public DateSortJob(Date []src, Date []dest, int fromIndex, int toIndex, int off, int threadCount) {
 		this.src = src;
@@ -12,21 +12,21 @@ import com.scudata.dm.Table;
 import com.scudata.expression.Expression;
 
 /**
- * ִA.derive
+ * 用于执行A.derive的任务
  * @author RunQian
  *
  */
 class DeriveJob extends Job {
-	private Sequence src; // Դ
-	private int start; // ʼλã
-	private int end; // λã
+	private Sequence src; // 源序列
+	private int start; // 起始位置，包括
+	private int end; // 结束位置，不包括
 	
-	private DataStruct newDs; // ݽṹ
-	private Expression[] exps; // ʽ
-	private String opt; // ѡ
-	private Context ctx; // 
+	private DataStruct newDs; // 结果集数据结构
+	private Expression[] exps; // 计算表达式数组
+	private String opt; // 选项
+	private Context ctx; // 计算上下文
 	
-	private Table result; // 
+	private Table result; // 结果集
 	
 	public DeriveJob(Sequence src, int start, int end, DataStruct newDs, 
 			Expression[] exps, String opt, Context ctx) {
@@ -89,7 +89,7 @@ class DeriveJob extends Job {
 						if (obj != null) {
 							r.setNormalFieldValue(c + oldColCount, obj);
 						} else {
-							mems.remove(i); // exps²ļ¼
+							mems.remove(i); // 计算exps可能依赖于新产生的记录
 							continue Next;
 						}
 					}
@@ -7,23 +7,23 @@ import com.scudata.dm.op.IGroupsResult;
 import com.scudata.expression.Expression;
 
 /**
- * αִз
+ * 对游标或排列执行分组运算的任务
  * @author WangXiaoJun
  *
  */
 public class GroupsJob extends Job {
-	private ICursor cursor; // α
-	private Sequence seq; // 
+	private ICursor cursor; // 数据游标
+	private Sequence seq; // 数据排列
 	
-	private Expression[] exps; // ֶαʽ
-	private String[] names; // ֶ
-	private Expression[] calcExps; // ֶαʽ
-	private String[] calcNames; // ֶ
-	private String opt; // ѡ
-	private Context ctx; // 
+	private Expression[] exps; // 分组字段表达式数组
+	private String[] names; // 分组字段名数组
+	private Expression[] calcExps; // 汇总字段表达式数组
+	private String[] calcNames; // 汇总字段名数组
+	private String opt; // 选项
+	private Context ctx; // 计算上下文
 	
-	private IGroupsResult groupsResult; // 
-	private int groupCount = -1; // @nʽʱûõĽ
+	private IGroupsResult groupsResult; // 分组对象
+	private int groupCount = -1; // @n方式分组时用户设置的结果集数量
 	
 	public GroupsJob(ICursor cursor, Expression[] exps, String[] names,
 			Expression[] calcExps, String[] calcNames, String opt, Context ctx) {
@@ -48,7 +48,7 @@ public class GroupsJob extends Job {
 	}
 	
 	/**
-	 * ȡ
+	 * 取分组对象
 	 * @return IGroupsResult
 	 */
 	public IGroupsResult getGroupsResult() {
@@ -56,7 +56,7 @@ public class GroupsJob extends Job {
 	}
 	
 	/**
-	 * @nѡʹãõĽ
+	 * @n选项使用，设置的结果集数量
 	 * @param groupCount
 	 */
 	public void setGroupCount(int groupCount) {
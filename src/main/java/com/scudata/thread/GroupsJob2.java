@@ -7,25 +7,25 @@ import com.scudata.dm.op.IGroupsResult;
 import com.scudata.expression.Expression;
 
 /**
- * αִз
+ * 对游标或排列执行分组运算的任务
  * @author LW
  *
  */
 public class GroupsJob2 extends Job {
-	private GroupsSyncReader reader; // α
+	private GroupsSyncReader reader; // 数据游标
 	
-	private Expression[] exps; // ֶαʽ
-	private String[] names; // ֶ
-	private Expression[] calcExps; // ֶαʽ
-	private String[] calcNames; // ֶ
-	private String opt; // ѡ
-	private Context ctx; // 
+	private Expression[] exps; // 分组字段表达式数组
+	private String[] names; // 分组字段名数组
+	private Expression[] calcExps; // 汇总字段表达式数组
+	private String[] calcNames; // 汇总字段名数组
+	private String opt; // 选项
+	private Context ctx; // 计算上下文
 	
-	private IGroupsResult groupsResult; // 
-	private int capacity; // hashС
+	private IGroupsResult groupsResult; // 分组对象
+	private int capacity; // hash表大小
 	
-	private int hashStart;// 
-	private int hashEnd;// 
+	private int hashStart;// 包含
+	private int hashEnd;// 不包含
 	
 	public GroupsJob2(GroupsSyncReader reader, Expression[] exps, String[] names,
 			Expression[] calcExps, String[] calcNames, String opt, Context ctx, int capacity) {
@@ -40,7 +40,7 @@ public class GroupsJob2 extends Job {
 	}
 	
 	/**
-	 * ȡ
+	 * 取分组对象
 	 * @return IGroupsResult
 	 */
 	public IGroupsResult getGroupsResult() {
@@ -18,25 +18,25 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.CursorUtil;
 
 /**
- * ִ
+ * 执行外存分组运算的任务
  * @author RunQian
  *
  */
 public class GroupxJob extends Job {
-	private ICursor cursor; // α
-	private Expression gexp; // @gѡʱķֶαʽ
-	private Expression[] exps; // ֶαʽ
-	private String[] names; // ֶ
-	private Expression[] calcExps; // ֶαʽ
-	private String[] calcNames; // ֶ
+	private ICursor cursor; // 数据游标
+	private Expression gexp; // @g选项时的分段表达式
+	private Expression[] exps; // 分组字段表达式数组
+	private String[] names; // 分组字段名数组
+	private Expression[] calcExps; // 汇总字段表达式数组
+	private String[] calcNames; // 汇总字段名数组
 	
-	private Context ctx; // 
-	private int fetchCount; // ÿȡ
-	private int capacity; // ڴܹŵķgroupx@n
+	private Context ctx; // 计算上下文
+	private int fetchCount; // 每次取数的数量
+	private int capacity; // 内存能够存放的分组结果的数量，用于groupx@n
 	
-	private TreeMap<Object, BFileWriter> fileMap; // ֵʱļӳ
+	private TreeMap<Object, BFileWriter> fileMap; // 大分组值和临时集文件映射
 	
-	// @gѡʹ
+	// @g选项使用
 	public GroupxJob(ICursor cursor, Expression gexp, Expression[] exps, String[] names,
 			Expression[] calcExps, String[] calcNames, Context ctx, 
 			int fetchCount, TreeMap<Object, BFileWriter> fileMap) {
@@ -56,7 +56,7 @@ public class GroupxJob extends Job {
 		}
 	}
 
-	// @nѡʹ
+	// @n选项使用
 	public GroupxJob(ICursor cursor, Expression[] exps, String[] names,
 			Expression[] calcExps, String[] calcNames, Context ctx, 
 			int capacity, int fetchCount, TreeMap<Object, BFileWriter> fileMap) {
@@ -89,25 +89,25 @@ public class GroupxJob extends Job {
 		TreeMap<Object, BFileWriter> fileMap = this.fileMap;
 		
 		try {
-			// α
+			// 遍历游标数据
 			while (true) {
 				Sequence seq = cursor.fetch(fetchCount);
 				if (seq == null || seq.length() == 0) {
 					break;
 				}
 
-				// ʽݽз
+				// 按大分组表达式对数据进行分组
 				Sequence groups = seq.group(gexp, null, ctx);
 				int gcount = groups.length();
 				for (int i = 1; i <= gcount; ++i) {
-					// ÿ״λ
+					// 对每个大分组进行首次汇总
 					Sequence group = (Sequence)groups.getMem(i);
 					Object gval = group.calc(1, gexp, ctx);
 					IGroupsResult gresult = IGroupsResult.instance(exps, names, calcExps, calcNames, null, ctx);
 					gresult.push(group, ctx);
 					group = gresult.getTempResult();
 					
-					// ļӳͬȡӦʱļ
+					// 对文件映射做同步取得相应的临时文件
 					BFileWriter writer = null;
 					synchronized(fileMap) {
 						writer = fileMap.get(gval);
@@ -120,7 +120,7 @@ public class GroupxJob extends Job {
 						}
 					}
 					
-					// סʱļ״ηдʱļ
+					// 锁住临时文件并把首次分组结果写到临时文件中
 					synchronized(writer) {
 						writer.write(group);
 					}
@@ -145,14 +145,14 @@ public class GroupxJob extends Job {
 		TreeMap<Object, BFileWriter> fileMap = this.fileMap;
 		
 		try {
-			// α
+			// 遍历游标数据
 			while (true) {
 				Sequence seq = cursor.fetch(fetchCount);
 				if (seq == null || seq.length() == 0) {
 					break;
 				}
 
-				// ״λܻ
+				// 进行首次汇总汇总
 				IGroupsResult gresult = IGroupsResult.instance(exps, names, calcExps, calcNames, null, ctx);
 				gresult.push(seq, ctx);
 				seq = gresult.getTempResult();
@@ -169,7 +169,7 @@ public class GroupxJob extends Job {
 					int index = ((Number)r.getNormalFieldValue(0)).intValue() / capacity + 1;
 					Integer gval = new Integer(index);
 					
-					// ļӳͬȡӦʱļ
+					// 对文件映射做同步取得相应的临时文件
 					BFileWriter writer = null;
 					synchronized(fileMap) {
 						writer = fileMap.get(gval);
@@ -182,7 +182,7 @@ public class GroupxJob extends Job {
 						}
 					}
 					
-					// סʱļ״ηдʱļ
+					// 锁住临时文件并把首次分组结果写到临时文件中
 					synchronized(writer) {
 						writer.write(group);
 					}
@@ -3,24 +3,31 @@ package com.scudata.thread;
 import com.scudata.common.RQException;
 
 /**
- * 󣬿ύThreadPoolJobThreadִ
+ * 任务对象，可以提交给ThreadPool或者JobThread执行
  * @author WangXiaoJun
  *
  */
 public abstract class Job implements Runnable {
-	private boolean isFinished; // Ƿ
-	private Throwable error; // ִйе쳣ϢûΪ
+	private volatile boolean isFinished; // 任务是否已完成
+	private Throwable error; // 任务执行过程中的异常信息，没错误则为空
 	
 	/**
-	 * ȴִ
+	 * 等待任务执行完，在工作窃取线程池的工作线程中等待时会先帮忙执行其它任务
 	 */
-	public final synchronized void join() {
-		if (!isFinished) {
-			try {
-				wait();
-			} catch (InterruptedException e) {
-				// idẹ߳˴׳쳣ܵjvm
-				//throw new RQException(e);
+	public final void join() {
+		Thread thread = Thread.currentThread();
+		if (thread instanceof WorkStealingThreadPool.StealingThread) {
+			((WorkStealingThreadPool.StealingThread)thread).helpJoin(this);
+		}
+		
+		synchronized(this) {
+			if (!isFinished) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					// ide结束线程，此处抛出异常可能导致jvm崩溃
+					//throw new RQException(e);
+				}
 			}
 		}
 		
@@ -33,6 +40,14 @@ public abstract class Job implements Runnable {
 		}
 	}
 
+	/**
+	 * 返回任务是否已完成
+	 * @return true：已完成
+	 */
+	boolean isFinished() {
+		return isFinished;
+	}
+
 	void reset() {
 		isFinished = false;
 		error = null;
@@ -1,7 +1,7 @@
 package com.scudata.thread;
 
 /**
- * ̶ִ߳
+ * 执行任务的线程对象
  * @author WangXiaoJun
  *
  */
@@ -18,26 +18,26 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.Variant;
 
 /**
- * ̼߳㹤
+ * 多线程计算工具类
  * @author WangXiaoJun
  *
  */
 public final class MultithreadUtil {
-	public static int SINGLE_PROSS_COUNT = 20480; // Ԫڴֵʱõ̴߳
-	private static final int INSERTIONSORT_THRESHOLD = 9; // Ԫֵ
+	public static int SINGLE_PROSS_COUNT = 20480; // 元素数少于此值时将采用单线程处理
+	private static final int INSERTIONSORT_THRESHOLD = 9; // 快速排序元素数阈值
 	
 
 	/**
-	 * ȡ̴߳Ԫö̴߳
-	 * @return int 
+	 * 取单线程处理的元素数量，超过此数量将采用多线程处理
+	 * @return int 数量
 	 */
 	public static int getSingleThreadProssCount() {
 		return SINGLE_PROSS_COUNT;
 	}
 
 	/**
-	 * õ̴߳Ԫö̴߳
-	 * @param count int 
+	 * 设置单线程处理的元素数量，超过此数量将采用多线程处理
+	 * @param count int 数量
 	 */
 	public static void setSingleThreadProssCount(int count) {
 		SINGLE_PROSS_COUNT = count;
@@ -48,18 +48,18 @@ public final class MultithreadUtil {
 	}
 
 	/**
-	 * ж߳
-	 * @param vals 
+	 * 对数组进行多线程排序
+	 * @param vals 对象数组
 	 */
 	public static void sort(Object []vals) {
 		sort(vals, 0, vals.length);
 	}
 
 	/**
-	 * ж߳
-	 * @param vals 
-	 * @param fromIndex ʼλã
-	 * @param toIndex λã
+	 * 对数组进行多线程排序
+	 * @param vals 对象数组
+	 * @param fromIndex 起始位置，包含
+	 * @param toIndex 结束位置，不包含
 	 */
 	public static void sort(Object []vals, int fromIndex, int toIndex) {
 		rangeCheck(vals.length, fromIndex, toIndex);
@@ -68,20 +68,20 @@ public final class MultithreadUtil {
 	}
 
 	/**
-	 * ж߳
-	 * @param vals 
-	 * @param c Ƚ
+	 * 对数组进行多线程排序
+	 * @param vals 对象数组
+	 * @param c 比较器
 	 */
 	public static void sort(Object []vals, Comparator<Object> c) {
 		sort(vals, 0, vals.length, c);
 	}
 
 	/**
-	 * ж߳
-	 * @param vals 
-	 * @param fromIndex ʼλã
-	 * @param toIndex λã
-	 * @param c Ƚ
+	 * 对数组进行多线程排序
+	 * @param vals 对象数组
+	 * @param fromIndex 起始位置，包含
+	 * @param toIndex 结束位置，不包含
+	 * @param c 比较器
 	 */
 	public static void sort(Object []vals, int fromIndex, int toIndex, Comparator<Object> c) {
 		rangeCheck(vals.length, fromIndex, toIndex);
@@ -90,15 +90,15 @@ public final class MultithreadUtil {
 	}
 
 	static void mergeSort(Object []src, Object[] dest, int low, int high, int off, Comparator<Object> c, int threadCount) {
-		// ԪС趨ֵ߳С2߳
+		// 如果元素数小于设定值或者线程数小于2则单线程排序
 		int length = high - low;
 		if (length <= SINGLE_PROSS_COUNT || threadCount < 2) {
 			mergeSort(src, dest, low, high, off, c);
 			return;
 		}
 		
-		// ݷֳ֣ǰ̶߳ǰ벿Ȼһ̶߳Ժ벿
-		// ÿһֿܻ߳
+		// 数据分成两部分，当前线程对前半部分排序，然后启动一个线程对后半部分排序
+		// 每一部分可能还会继续多线程排序
 		int destLow  = low;
 		int destHigh = high;
 		low  += off;
@@ -108,13 +108,13 @@ public final class MultithreadUtil {
 		SortJob job1 = new SortJob(dest, src, low, mid, -off, c, threadCount / 2);
 		SortJob job2 = new SortJob(dest, src, mid, high, -off, c, threadCount / 2);
 		
-		// һ̶߳Ժ벿ֽ
+		// 产生一个线程对后半部分进行排序
 		new JobThread(job2).start();
 		
-		// ǰ̶߳ǰ벿ֽ
+		// 当前线程对前半部分进行排序
 		job1.run();
 		
-		// ȴִ
+		// 等待任务执行完毕
 		job2.join();
 		
 		if (c.compare(src[mid - 1], src[mid]) <= 0) {
@@ -132,7 +132,7 @@ public final class MultithreadUtil {
 		}
 	}
 
-	// ̹߳鲢
+	// 单线程归并排序
 	private static void mergeSort(Object []src, Object []dest, int low, int high, int off, Comparator<Object> c) {
 		int length = high - low;
 		if (length < INSERTIONSORT_THRESHOLD) {
@@ -177,15 +177,15 @@ public final class MultithreadUtil {
 		}
 	}
 	static void mergeSort(Object []src, Object[] dest, int low, int high, int off, int threadCount) {
-		// ԪС趨ֵ߳С2߳
+		// 如果元素数小于设定值或者线程数小于2则单线程排序
 		int length = high - low;
 		if (length <= SINGLE_PROSS_COUNT || threadCount < 2) {
 			mergeSort(src, dest, low, high, off);
 			return;
 		}
 		
-		// ݷֳ֣ǰ̶߳ǰ벿Ȼһ̶߳Ժ벿
-		// ÿһֿܻ߳
+		// 数据分成两部分，当前线程对前半部分排序，然后启动一个线程对后半部分排序
+		// 每一部分可能还会继续多线程排序
 		int destLow  = low;
 		int destHigh = high;
 		low  += off;
@@ -195,13 +195,13 @@ public final class MultithreadUtil {
 		SortJob job1 = new SortJob(dest, src, low, mid, -off, threadCount / 2);
 		SortJob job2 = new SortJob(dest, src, mid, high, -off, threadCount / 2);
 		
-		// һ̶߳Ժ벿ֽ
+		// 产生一个线程对后半部分进行排序
 		new JobThread(job2).start();
 		
-		// ǰ̶߳ǰ벿ֽ
+		// 当前线程对前半部分进行排序
 		job1.run();
 		
-		// ȴִ
+		// 等待任务执行完毕
 		job2.join();
 		
 		if (Variant.compare(src[mid - 1], src[mid], true) <= 0) {
@@ -219,7 +219,7 @@ public final class MultithreadUtil {
 		}
 	}
 
-	// ̹߳鲢
+	// 单线程归并排序
 	private static void mergeSort(Object []src, Object []dest, int low, int high, int off) {
 		int length = high - low;
 		if (length < INSERTIONSORT_THRESHOLD) {
@@ -281,11 +281,11 @@ public final class MultithreadUtil {
 	}
 	
 	/**
-	 * ̶ִ߳calc
-	 * @param src Դ
-	 * @param exp ʽ
-	 * @param ctx 
-	 * @return 
+	 * 多线程对序列执行calc运算
+	 * @param src 源序列
+	 * @param exp 运算表达式
+	 * @param ctx 计算上下文
+	 * @return 结果集序列
 	 */
 	public static Sequence calc(Sequence src, Expression exp, Context ctx) {
 		if (exp == null) {
@@ -309,7 +309,7 @@ public final class MultithreadUtil {
 		CalcJob []jobs = new CalcJob[threadCount];
 
 		int start = 1;
-		int end; // 
+		int end; // 不包括
 		Sequence result = new Sequence(new Object[len]);
 		for (int i = 0; i < threadCount; ++i) {
 			if (i + 1 == threadCount) {
@@ -321,11 +321,11 @@ public final class MultithreadUtil {
 			Context tmpCtx = ctx.newComputeContext();
 			Expression tmpExp = exp.newExpression(tmpCtx);
 			jobs[i] = new CalcJob(src, start, end, tmpExp, tmpCtx, result);
-			pool.submit(jobs[i]); // ύ
+			pool.submit(jobs[i]); // 提交任务
 			start = end;
 		}
 
-		// ȴִ
+		// 等待任务执行完毕
 		for (int i = 0; i < threadCount; ++i) {
 			jobs[i].join();
 		}
@@ -334,10 +334,10 @@ public final class MultithreadUtil {
 	}
 	
 	/**
-	 * ̶ִ߳run
-	 * @param src Դ
-	 * @param exp ʽ
-	 * @param ctx 
+	 * 多线程对序列执行run运算
+	 * @param src 源序列
+	 * @param exp 运算表达式
+	 * @param ctx 计算上下文
 	 */
 	public static void run(Sequence src, Expression exp, Context ctx) {
 		if (exp == null) {
@@ -362,7 +362,7 @@ public final class MultithreadUtil {
 		RunJob []jobs = new RunJob[threadCount];
 
 		int start = 1;
-		int end; // 
+		int end; // 不包括
 		for (int i = 0; i < threadCount; ++i) {
 			if (i + 1 == threadCount) {
 				end = len + 1;
@@ -374,21 +374,21 @@ public final class MultithreadUtil {
 			Expression tmpExp = exp.newExpression(tmpCtx);
 
 			jobs[i] = new RunJob(src, start, end, tmpExp, tmpCtx);
-			pool.submit(jobs[i]); // ύ
+			pool.submit(jobs[i]); // 提交任务
 			start = end;
 		}
 		
-		// ȴִ
+		// 等待任务执行完毕
 		for (int i = 0; i < threadCount; ++i) {
 			jobs[i].join();
 		}
 	}
 	
 	/**
-	 * ̶ִ߳й
-	 * @param src Դ
-	 * @param exp ˱ʽ
-	 * @param ctx 
+	 * 多线程对序列执行过滤运算
+	 * @param src 源序列
+	 * @param exp 过滤表达式
+	 * @param ctx 计算上下文
 	 * @return Object
 	 */
 	public static Object select(Sequence src, Expression exp, Context ctx) {
@@ -404,13 +404,13 @@ public final class MultithreadUtil {
 			threadCount = parallelNum;
 		}
 		
-		// newύ̳߳
+		// 生成new任务并提交给线程池
 		ThreadPool pool = ThreadPool.instance();
 		int singleCount = len / threadCount;
 		SelectJob []jobs = new SelectJob[threadCount];
 
 		int start = 1;
-		int end; // 
+		int end; // 不包括
 		for (int i = 0; i < threadCount; ++i) {
 			if (i + 1 == threadCount) {
 				end = len + 1;
@@ -422,11 +422,11 @@ public final class MultithreadUtil {
 			Expression tmpExp = exp.newExpression(tmpCtx);
 
 			jobs[i] = new SelectJob(src, start, end, tmpExp, tmpCtx);
-			pool.submit(jobs[i]); // ύ
+			pool.submit(jobs[i]); // 提交任务
 			start = end;
 		}
 
-		// ȴִϲȡ
+		// 等待任务执行完毕并取出结果
 		Sequence result = new Sequence();
 		for (int i = 0; i < threadCount; ++i) {
 			jobs[i].join();
@@ -437,12 +437,12 @@ public final class MultithreadUtil {
 	}
 	
 	/**
-	 * ̶ִ߳й㣬ʽļ͸ֵ
-	 * @param src Դ
-	 * @param fltExps ʽ
-	 * @param vals ֵ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 多线程对序列执行过滤运算，计算表达式的计算结果和给定值做相等运算
+	 * @param src 源序列
+	 * @param fltExps 计算表达式数组
+	 * @param vals 值数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @return Object
 	 */
 	public static Object select(Sequence src, Expression[] fltExps, Object[] vals, 
@@ -459,14 +459,14 @@ public final class MultithreadUtil {
 			threadCount = parallelNum;
 		}
 		
-		// newύ̳߳
+		// 生成new任务并提交给线程池
 		ThreadPool pool = ThreadPool.instance();
 		int singleCount = len / threadCount;
 		SelectJob []jobs = new SelectJob[threadCount];
 
 		int expCount = fltExps.length;
 		int start = 1;
-		int end; // 
+		int end; // 不包括
 		for (int i = 0; i < threadCount; ++i) {
 			if (i + 1 == threadCount) {
 				end = len + 1;
@@ -481,11 +481,11 @@ public final class MultithreadUtil {
 			}
 			
 			jobs[i] = new SelectJob(src, start, end, tmpExps, vals, tmpCtx);
-			pool.submit(jobs[i]); // ύ
+			pool.submit(jobs[i]); // 提交任务
 			start = end;
 		}
 
-		// ȴִϲȡ
+		// 等待任务执行完毕并取出结果
 		Sequence result = new Sequence();
 		for (int i = 0; i < threadCount; ++i) {
 			jobs[i].join();
@@ -496,13 +496,13 @@ public final class MultithreadUtil {
 	}
 
 	/**
-	 * ̶ִ߳new
-	 * @param src Դ
-	 * @param ds ݽṹ
-	 * @param exps ʽ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return 
+	 * 多线程对序列执行new计算
+	 * @param src 源序列
+	 * @param ds 结果集数据结构
+	 * @param exps 计算表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 结果集序表
 	 */
 	public static Table newTable(Sequence src, DataStruct ds, Expression[] exps, String opt, Context ctx) {
 		int len = src.length();
@@ -517,14 +517,14 @@ public final class MultithreadUtil {
 			threadCount = parallelNum;
 		}
 		
-		// newύ̳߳
+		// 生成new任务并提交给线程池
 		ThreadPool pool = ThreadPool.instance();
 		int singleCount = len / threadCount;
 		NewJob []jobs = new NewJob[threadCount];
 		int expCount = exps.length;
 		
 		int start = 1;
-		int end; // 
+		int end; // 不包括
 		for (int i = 0; i < threadCount; ++i) {
 			if (i + 1 == threadCount) {
 				end = len + 1;
@@ -539,11 +539,11 @@ public final class MultithreadUtil {
 			}
 
 			jobs[i] = new NewJob(src, start, end, ds, tmpExps, opt, tmpCtx);
-			pool.submit(jobs[i]); // ύ
+			pool.submit(jobs[i]); // 提交任务
 			start = end;
 		}
 
-		// ȴִϲȡ
+		// 等待任务执行完毕并取出结果
 		Table result = new Table(ds, len);
 		for (int i = 0; i < threadCount; ++i) {
 			jobs[i].join();
@@ -554,13 +554,13 @@ public final class MultithreadUtil {
 	}
 	
 	/**
-	 * ̶ִ߳derive
-	 * @param src Դ
-	 * @param names ֶ
-	 * @param exps ʽ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return 
+	 * 多线程对序列执行derive计算
+	 * @param src 源序列
+	 * @param names 字段名数组
+	 * @param exps 计算表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 结果集序表
 	 */
 	public static Table derive(Sequence src, String []names, Expression []exps, String opt, Context ctx) {
 		int len = src.length();
@@ -596,12 +596,12 @@ public final class MultithreadUtil {
 		String []srcNames = srcDs.getFieldNames();
 		int srcColCount = srcNames.length;
 
-		// ϲֶ
+		// 合并字段
 		String []totalNames = new String[srcColCount + colCount];
 		System.arraycopy(srcNames, 0, totalNames, 0, srcColCount);
 		System.arraycopy(names, 0, totalNames, srcColCount, colCount);
 
-		// м¼ֶΣԱļ¼ǰ¼ֶ
+		// 给所有记录增加字段，以便后计算的记录可以引用前面记录的字段
 		DataStruct newDs = srcDs.create(totalNames);
 
 		int threadCount = (len - 1) / SINGLE_PROSS_COUNT + 1;
@@ -615,7 +615,7 @@ public final class MultithreadUtil {
 		int expCount = exps.length;
 		
 		int start = 1;
-		int end; // 
+		int end; // 不包括
 		for (int i = 0; i < threadCount; ++i) {
 			if (i + 1 == threadCount) {
 				end = len + 1;
@@ -630,11 +630,11 @@ public final class MultithreadUtil {
 			}
 
 			jobs[i] = new DeriveJob(src, start, end, newDs, tmpExps, opt, tmpCtx);
-			pool.submit(jobs[i]); // ύ
+			pool.submit(jobs[i]); // 提交任务
 			start = end;
 		}
 
-		// ȴִϲȡ
+		// 等待任务执行完毕并取出结果
 		Table result = new Table(newDs, len);
 		for (int i = 0; i < threadCount; ++i) {
 			jobs[i].join();
@@ -645,10 +645,10 @@ public final class MultithreadUtil {
 	}
 
 	/**
-	 * ж߳
-	 * @param vals 
-	 * @param fromIndex ʼλã
-	 * @param toIndex λã
+	 * 对整数数组进行多线程排序
+	 * @param vals 整数数组
+	 * @param fromIndex 起始位置，包含
+	 * @param toIndex 结束位置，不包含
 	 */
 	public static void sort(int []vals, int fromIndex, int toIndex) {
 		rangeCheck(vals.length, fromIndex, toIndex);
@@ -659,15 +659,15 @@ public final class MultithreadUtil {
 	}
 
 	static void mergeSort(int []src, int[] dest, int low, int high, int off, int threadCount) {
-		// ԪС趨ֵ߳С2߳
+		// 如果元素数小于设定值或者线程数小于2则单线程排序
 		int length = high - low;
 		if (length <= SINGLE_PROSS_COUNT || threadCount < 2) {
 			mergeSort(src, dest, low, high, off);
 			return;
 		}
 		
-		// ݷֳ֣ǰ̶߳ǰ벿Ȼһ̶߳Ժ벿
-		// ÿһֿܻ߳
+		// 数据分成两部分，当前线程对前半部分排序，然后启动一个线程对后半部分排序
+		// 每一部分可能还会继续多线程排序
 		int destLow  = low;
 		int destHigh = high;
 		low  += off;
@@ -677,13 +677,13 @@ public final class MultithreadUtil {
 		IntSortJob job1 = new IntSortJob(dest, src, low, mid, -off, threadCount / 2);
 		IntSortJob job2 = new IntSortJob(dest, src, mid, high, -off, threadCount / 2);
 		
-		// һ̶߳Ժ벿ֽ
+		// 产生一个线程对后半部分进行排序
 		new JobThread(job2).start();
 		
-		// ǰ̶߳ǰ벿ֽ
+		// 当前线程对前半部分进行排序
 		job1.run();
 		
-		// ȴִ
+		// 等待任务执行完毕
 		job2.join();
 		
 		if (src[mid - 1] <= src[mid]) {
@@ -701,7 +701,7 @@ public final class MultithreadUtil {
 		}
 	}
 
-	// ̹߳鲢
+	// 单线程归并排序
 	private static void mergeSort(int []src, int []dest, int low, int high, int off) {
 		int length = high - low;
 		if (length < INSERTIONSORT_THRESHOLD) {
@@ -747,10 +747,10 @@ public final class MultithreadUtil {
 	}
 
 	/**
-	 * Գж߳
-	 * @param vals 
-	 * @param fromIndex ʼλã
-	 * @param toIndex λã
+	 * 对长整数数组进行多线程排序
+	 * @param vals 长整数数组
+	 * @param fromIndex 起始位置，包含
+	 * @param toIndex 结束位置，不包含
 	 */
 	public static void sort(long []vals, int fromIndex, int toIndex) {
 		rangeCheck(vals.length, fromIndex, toIndex);
@@ -761,15 +761,15 @@ public final class MultithreadUtil {
 	}
 
 	static void mergeSort(long []src, long[] dest, int low, int high, int off, int threadCount) {
-		// ԪС趨ֵ߳С2߳
+		// 如果元素数小于设定值或者线程数小于2则单线程排序
 		int length = high - low;
 		if (length <= SINGLE_PROSS_COUNT || threadCount < 2) {
 			mergeSort(src, dest, low, high, off);
 			return;
 		}
 		
-		// ݷֳ֣ǰ̶߳ǰ벿Ȼһ̶߳Ժ벿
-		// ÿһֿܻ߳
+		// 数据分成两部分，当前线程对前半部分排序，然后启动一个线程对后半部分排序
+		// 每一部分可能还会继续多线程排序
 		int destLow  = low;
 		int destHigh = high;
 		low  += off;
@@ -779,13 +779,13 @@ public final class MultithreadUtil {
 		LongSortJob job1 = new LongSortJob(dest, src, low, mid, -off, threadCount / 2);
 		LongSortJob job2 = new LongSortJob(dest, src, mid, high, -off, threadCount / 2);
 		
-		// һ̶߳Ժ벿ֽ
+		// 产生一个线程对后半部分进行排序
 		new JobThread(job2).start();
 		
-		// ǰ̶߳ǰ벿ֽ
+		// 当前线程对前半部分进行排序
 		job1.run();
 		
-		// ȴִ
+		// 等待任务执行完毕
 		job2.join();
 		
 		if (src[mid - 1] <= src[mid]) {
@@ -803,7 +803,7 @@ public final class MultithreadUtil {
 		}
 	}
 
-	// ̹߳鲢
+	// 单线程归并排序
 	private static void mergeSort(long []src, long []dest, int low, int high, int off) {
 		int length = high - low;
 		if (length < INSERTIONSORT_THRESHOLD) {
@@ -849,10 +849,10 @@ public final class MultithreadUtil {
 	}
 
 	/**
-	 * ˫ȸж߳
-	 * @param vals ˫ȸ
-	 * @param fromIndex ʼλã
-	 * @param toIndex λã
+	 * 对双精度浮点数数组进行多线程排序
+	 * @param vals 双精度浮点数数组
+	 * @param fromIndex 起始位置，包含
+	 * @param toIndex 结束位置，不包含
 	 */
 	public static void sort(double []vals, int fromIndex, int toIndex) {
 		rangeCheck(vals.length, fromIndex, toIndex);
@@ -863,15 +863,15 @@ public final class MultithreadUtil {
 	}
 
 	static void mergeSort(double []src, double[] dest, int low, int high, int off, int threadCount) {
-		// ԪС趨ֵ߳С2߳
+		// 如果元素数小于设定值或者线程数小于2则单线程排序
 		int length = high - low;
 		if (length <= SINGLE_PROSS_COUNT || threadCount < 2) {
 			mergeSort(src, dest, low, high, off);
 			return;
 		}
 		
-		// ݷֳ֣ǰ̶߳ǰ벿Ȼһ̶߳Ժ벿
-		// ÿһֿܻ߳
+		// 数据分成两部分，当前线程对前半部分排序，然后启动一个线程对后半部分排序
+		// 每一部分可能还会继续多线程排序
 		int destLow  = low;
 		int destHigh = high;
 		low  += off;
@@ -881,13 +881,13 @@ public final class MultithreadUtil {
 		DoubleSortJob job1 = new DoubleSortJob(dest, src, low, mid, -off, threadCount / 2);
 		DoubleSortJob job2 = new DoubleSortJob(dest, src, mid, high, -off, threadCount / 2);
 		
-		// һ̶߳Ժ벿ֽ
+		// 产生一个线程对后半部分进行排序
 		new JobThread(job2).start();
 		
-		// ǰ̶߳ǰ벿ֽ
+		// 当前线程对前半部分进行排序
 		job1.run();
 		
-		// ȴִ
+		// 等待任务执行完毕
 		job2.join();
 		
 		if (Double.compare(src[mid - 1], src[mid]) <= 0) {
@@ -905,7 +905,7 @@ public final class MultithreadUtil {
 		}
 	}
 
-	// ̹߳鲢
+	// 单线程归并排序
 	private static void mergeSort(double []src, double []dest, int low, int high, int off) {
 		int length = high - low;
 		if (length < INSERTIONSORT_THRESHOLD) {
@@ -951,10 +951,10 @@ public final class MultithreadUtil {
 	}
 
 	/**
-	 * ַж߳
-	 * @param vals ַ
-	 * @param fromIndex ʼλã
-	 * @param toIndex λã
+	 * 对字符串数组进行多线程排序
+	 * @param vals 字符串数组
+	 * @param fromIndex 起始位置，包含
+	 * @param toIndex 结束位置，不包含
 	 */
 	public static void sort(String []vals, int fromIndex, int toIndex) {
 		rangeCheck(vals.length, fromIndex, toIndex);
@@ -965,15 +965,15 @@ public final class MultithreadUtil {
 	}
 
 	static void mergeSort(String []src, String[] dest, int low, int high, int off, int threadCount) {
-		// ԪС趨ֵ߳С2߳
+		// 如果元素数小于设定值或者线程数小于2则单线程排序
 		int length = high - low;
 		if (length <= SINGLE_PROSS_COUNT || threadCount < 2) {
 			mergeSort(src, dest, low, high, off);
 			return;
 		}
 		
-		// ݷֳ֣ǰ̶߳ǰ벿Ȼһ̶߳Ժ벿
-		// ÿһֿܻ߳
+		// 数据分成两部分，当前线程对前半部分排序，然后启动一个线程对后半部分排序
+		// 每一部分可能还会继续多线程排序
 		int destLow  = low;
 		int destHigh = high;
 		low  += off;
@@ -983,13 +983,13 @@ public final class MultithreadUtil {
 		StringSortJob job1 = new StringSortJob(dest, src, low, mid, -off, threadCount / 2);
 		StringSortJob job2 = new StringSortJob(dest, src, mid, high, -off, threadCount / 2);
 		
-		// һ̶߳Ժ벿ֽ
+		// 产生一个线程对后半部分进行排序
 		new JobThread(job2).start();
 		
-		// ǰ̶߳ǰ벿ֽ
+		// 当前线程对前半部分进行排序
 		job1.run();
 		
-		// ȴִ
+		// 等待任务执行完毕
 		job2.join();
 		
 		if (StringArray.compare(src[mid - 1], src[mid]) <= 0) {
@@ -1007,7 +1007,7 @@ public final class MultithreadUtil {
 		}
 	}
 
-	// ̹߳鲢
+	// 单线程归并排序
 	private static void mergeSort(String []src, String []dest, int low, int high, int off) {
 		int length = high - low;
 		if (length < INSERTIONSORT_THRESHOLD) {
@@ -1053,10 +1053,10 @@ public final class MultithreadUtil {
 	}
 
 	/**
-	 * ж߳
-	 * @param vals 
-	 * @param fromIndex ʼλã
-	 * @param toIndex λã
+	 * 对日期数组进行多线程排序
+	 * @param vals 日期数组
+	 * @param fromIndex 起始位置，包含
+	 * @param toIndex 结束位置，不包含
 	 */
 	public static void sort(Date []vals, int fromIndex, int toIndex) {
 		rangeCheck(vals.length, fromIndex, toIndex);
@@ -1067,15 +1067,15 @@ public final class MultithreadUtil {
 	}
 
 	static void mergeSort(Date []src, Date[] dest, int low, int high, int off, int threadCount) {
-		// ԪС趨ֵ߳С2߳
+		// 如果元素数小于设定值或者线程数小于2则单线程排序
 		int length = high - low;
 		if (length <= SINGLE_PROSS_COUNT || threadCount < 2) {
 			mergeSort(src, dest, low, high, off);
 			return;
 		}
 		
-		// ݷֳ֣ǰ̶߳ǰ벿Ȼһ̶߳Ժ벿
-		// ÿһֿܻ߳
+		// 数据分成两部分，当前线程对前半部分排序，然后启动一个线程对后半部分排序
+		// 每一部分可能还会继续多线程排序
 		int destLow  = low;
 		int destHigh = high;
 		low  += off;
@@ -1085,13 +1085,13 @@ public final class MultithreadUtil {
 		DateSortJob job1 = new DateSortJob(dest, src, low, mid, -off, threadCount / 2);
 		DateSortJob job2 = new DateSortJob(dest, src, mid, high, -off, threadCount / 2);
 		
-		// һ̶߳Ժ벿ֽ
+		// 产生一个线程对后半部分进行排序
 		new JobThread(job2).start();
 		
-		// ǰ̶߳ǰ벿ֽ
+		// 当前线程对前半部分进行排序
 		job1.run();
 		
-		// ȴִ
+		// 等待任务执行完毕
 		job2.join();
 		
 		if (DateArray.compare(src[mid - 1], src[mid]) <= 0) {
@@ -1109,7 +1109,7 @@ public final class MultithreadUtil {
 		}
 	}
 
-	// ̹߳鲢
+	// 单线程归并排序
 	private static void mergeSort(Date []src, Date []dest, int low, int high, int off) {
 		int length = high - low;
 		if (length < INSERTIONSORT_THRESHOLD) {
@@ -11,21 +11,21 @@ import com.scudata.dm.Table;
 import com.scudata.expression.Expression;
 
 /**
- * ִA.new
+ * 用于执行A.new的任务
  * @author RunQian
  *
  */
 class NewJob extends Job {
-	private Sequence src; // Դ
-	private int start; // ʼλã
-	private int end; // λã
+	private Sequence src; // 源序列
+	private int start; // 起始位置，包括
+	private int end; // 结束位置，不包括
 	
-	private DataStruct ds; // ݽṹ
-	private Expression[] exps; // ʽ
-	private String opt; // ѡ
-	private Context ctx; // 
+	private DataStruct ds; // 结果集数据结构
+	private Expression[] exps; // 计算表达式数组
+	private String opt; // 选项
+	private Context ctx; // 计算上下文
 	
-	private Table result; // 
+	private Table result; // 结果集
 	
 	public NewJob(Sequence src, int start, int end, DataStruct ds, Expression[] exps, String opt, Context ctx) {
 		this.src = src;
@@ -80,7 +80,7 @@ class NewJob extends Job {
 						if (obj != null) {
 							r.setNormalFieldValue(c, obj);
 						} else {
-							mems.remove(i); // exps²ļ¼
+							mems.remove(i); // 计算exps可能依赖于新产生的记录
 							continue Next;
 						}
 					}
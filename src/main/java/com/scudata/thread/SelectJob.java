@@ -9,22 +9,22 @@ import com.scudata.expression.Expression;
 import com.scudata.util.Variant;
 
 /**
- * ִA.select
+ * 用于执行A.select的任务
  * @author RunQian
  *
  */
 class SelectJob extends Job {
-	private Sequence src; // Դ
-	private int start; // ʼλã
-	private int end; // λã
+	private Sequence src; // 源序列
+	private int start; // 起始位置，包括
+	private int end; // 结束位置，不包括
 	
-	private Expression exp; // ˱ʽ
+	private Expression exp; // 过滤表达式
 	
-	private Expression[] fltExps; // ʽ
-	private Object[] vals; // ֵ
+	private Expression[] fltExps; // 计算表达式数组
+	private Object[] vals; // 值数组
 	
-	private Context ctx; // 
-	private Sequence result; // 
+	private Context ctx; // 计算上下文
+	private Sequence result; // 结果集
 	
 	public SelectJob(Sequence src, int start, int end, Expression exp, Context ctx) {
 		this.src = src;
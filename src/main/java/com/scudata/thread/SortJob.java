@@ -4,7 +4,7 @@ import java.util.Comparator;
 
 
 /**
- * ִ
+ * 用于执行排序的任务
  * @author RunQian
  *
  */
@@ -12,12 +12,12 @@ class SortJob extends Job {
 	private Object []src;
 	private Object[] dest;
 	
-	private int fromIndex; // ʼλã
-	private int toIndex; // λã
-	private int off; // ƫ
+	private int fromIndex; // 起始位置，包含
+	private int toIndex; // 结束位置，不包含
+	private int off; // 两个数组的偏移量
 	
-	private Comparator<Object> c; // Ƚ
-	private int threadCount; // ߳
+	private Comparator<Object> c; // 比较器
+	private int threadCount; // 排序线程数
 	
 	public SortJob(Object []src, Object[] dest, int fromIndex, int toIndex, int off, Comparator<Object> c, int threadCount) {
 		this.src = src;
@@ -0,0 +1,146 @@
+package com.scudata.thread;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.scudata.common.Logger;
+import com.scudata.common.MessageManager;
+import com.scudata.dm.ComputeStack;
+import com.scudata.dm.Context;
+import com.scudata.dm.Current;
+import com.scudata.dm.DataStruct;
+import com.scudata.dm.FileObject;
+import com.scudata.dm.RunFileWriter;
+import com.scudata.dm.Sequence;
+import com.scudata.dm.comparator.ArrayComparator;
+import com.scudata.dm.comparator.ArrayComparator2;
+import com.scudata.dm.comparator.CommonComparator;
+import com.scudata.dm.cursor.RunMergeCursor;
+import com.scudata.expression.Expression;
+import com.scudata.resources.EngineMessage;
+
+/**
+ * 并行外存排序的任务，对一批数据排序后写出到临时文件，或者把多个临时文件归并成一个
+ * @author RunQian
+ *
+ */
+public class SortxJob extends Job {
+	private Sequence data; // 要排序的数据
+	private Expression []exps; // 排序表达式
+	private Context ctx; // 计算上下文
+	private RunFileWriter []runs; // 要归并的临时文件
+	private boolean isNullMin = true; // null是否当最小值
+
+	private RunFileWriter result; // 产生的临时文件
+
+	/**
+	 * 构建排序任务
+	 * @param data 要排序的数据，记录的数据结构相同
+	 * @param exps 排序表达式，每个任务使用自己的表达式
+	 * @param ctx 计算上下文，每个任务使用自己的上下文
+	 * @param isNullMin null是否当最小值
+	 */
+	public SortxJob(Sequence data, Expression []exps, Context ctx, boolean isNullMin) {
+		this.data = data;
+		this.exps = exps;
+		this.ctx = ctx;
+		this.isNullMin = isNullMin;
+	}
+
+	/**
+	 * 构建归并任务
+	 * @param runs 要归并的临时文件
+	 * @param isNullMin null是否当最小值
+	 */
+	public SortxJob(RunFileWriter []runs, boolean isNullMin) {
+		this.runs = runs;
+		this.isNullMin = isNullMin;
+	}
+
+	/**
+	 * 返回产生的临时文件
+	 * @return RunFileWriter
+	 */
+	public RunFileWriter getResult() {
+		return result;
+	}
+
+	public void run() {
+		if (runs != null) {
+			result = RunMergeCursor.merge(runs, isNullMin);
+			runs = null;
+		} else {
+			sort();
+		}
+	}
+
+	private void sort() {
+		Sequence data = this.data;
+		Expression []exps = this.exps;
+		Context ctx = this.ctx;
+		int len = data.length();
+		int fcount = exps.length;
+		DataStruct ds = data.dataStruct();
+
+		// 每行由排序字段值和记录组成，记录放在最后
+		Object [][]rows = new Object[len][];
+		ComputeStack stack = ctx.getComputeStack();
+		Current current = new Current(data);
+		stack.push(current);
+
+		try {
+			for (int i = 1; i <= len; ++i) {
+				current.setCurrent(i);
+				Object []row = new Object[fcount + 1];
+				for (int f = 0; f < fcount; ++f) {
+					row[f] = exps[f].calculate(ctx);
+				}
+
+				row[fcount] = data.getMem(i);
+				rows[i - 1] = row;
+			}
+		} finally {
+			stack.pop();
+		}
+
+		// 释放源数据和表达式对记录的引用
+		this.data = null;
+		this.exps = null;
+		data = null;
+
+		Comparator<Object> comparator;
+		if (isNullMin) {
+			comparator = new ArrayComparator(fcount);
+		} else {
+			CommonComparator cmp = new CommonComparator(null, true, true);
+			CommonComparator []cmps = new CommonComparator[fcount];
+			for (int i = 0; i < fcount; ++i) {
+				cmps[i] = cmp;
+			}
+
+			comparator = new ArrayComparator2(cmps, fcount);
+		}
+
+		// 稳定排序，排序字段值相同的记录保持原来的顺序
+		Arrays.sort(rows, comparator);
+
+		FileObject fo = FileObject.createTempFileObject();
+		MessageManager mm = EngineMessage.get();
+		Logger.info(mm.getMessage("engine.createTmpFile") + fo.getFileName());
+
+		RunFileWriter writer = new RunFileWriter(fo, ds, fcount);
+		try {
+			for (int i = 0; i < len; ++i) {
+				writer.write(rows[i]);
+				rows[i] = null;
+			}
+
+			writer.close();
+		} catch (RuntimeException e) {
+			writer.delete();
+			throw e;
+		}
+
+		result = writer;
+	}
+}
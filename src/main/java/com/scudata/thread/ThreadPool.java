@@ -5,8 +5,9 @@ import java.util.LinkedList;
 import com.scudata.dm.Env;
 
 /**
- * ̳߳ضڶ̴߳
- * ߳Env.getParallelNum()
+ * 线程池对象，用于多线程处理任务
+ * 线程数量采用Env.getParallelNum()
+ * 如果Env.isWorkStealing()为true则创建工作窃取方式的线程池WorkStealingThreadPool
  * @author WangXiaoJun
  *
  */
@@ -15,9 +16,9 @@ public class ThreadPool{
 
 	private WorkThread[] threads;
 	private LinkedList<Job> jobList = new LinkedList<Job>();
-	private boolean shutdown; // Ƿر߳
+	private boolean shutdown; // 是否关闭线程
 
-	// ̳߳Ĺ߳
+	// 线程池启动的工作线程
 	private class WorkThread extends Thread {
 		private WorkThread(ThreadGroup group, String name) {
 			super(group, name);
@@ -25,14 +26,14 @@ public class ThreadPool{
 
 		public void run() {
 			while (true) {
-				// бͬ
+				// 对任务列表做同步
 				synchronized(jobList) {
 					if (shutdown) {
-						// ̳߳ص˹رգ߳
+						// 线程池调用了关闭，结束线程
 						return;
 					}
 
-					// ûȴ
+					// 如果没有任务则等待
 					if (jobList.size() == 0) {
 						try {
 							jobList.wait();
@@ -44,7 +45,7 @@ public class ThreadPool{
 					}
 				}
 
-				// ѵһȡִ
+				// 把第一个任务取出并执行
 				Job job = null;
 				synchronized(jobList) {
 					if (jobList.size() > 0) {
@@ -65,9 +66,15 @@ public class ThreadPool{
 		}
 	}
 
+	/**
+	 * 供子类使用的构造函数，子类自己负责创建工作线程
+	 */
+	protected ThreadPool() {
+	}
+
 	private ThreadPool(int threadCount) {
 		ThreadGroup group = Thread.currentThread().getThreadGroup();
-		// 鲻ideģideide߳Ľ̷߳˷ݹ߳߳
+		// 根组不是ide产生的，ide会调用ide产生的线程组的结束线程方法，此方法会递归结束下面所有线程组的线程
 		/*while (true) {
 			ThreadGroup g = group.getParent();
 			if (g == null) {
@@ -86,35 +93,62 @@ public class ThreadPool{
 	}
 
 	/**
-	 * ȡ̳߳أ߳ΪEnv.getCallxParallelNum()MAX_THREAD_COUNTеСߣҲС2
+	 * 取得线程池，线程数为Env.getCallxParallelNum()和MAX_THREAD_COUNT中的小者，并且不小于2
 	 * @return ThreadPool
 	 */
 	public static synchronized ThreadPool instance() {
-		if (instance == null || instance.shutdown) {
+		if (instance == null || instance.isShutdown()) {
 			int n = Env.getParallelNum();
 			if (n < 2) {
 				n = 2;
 			}
 
-			instance = new ThreadPool(n);
+			instance = createThreadPool(n);
 		} else {
-			// Ƿ߳
-			WorkThread[] threads = instance.threads;
-			for (int i = 0, len = threads.length; i < len; ++i) {
-				if (!threads[i].isAlive()) {
-					threads[i] = instance.new WorkThread(threads[i].getThreadGroup(), "ThreadPool" + i);
-					threads[i].setDaemon(true);
-					threads[i].start();
-				}
-			}
+			// 检查是否有线程死掉
+			instance.checkThreads();
 		}
 
 		return instance;
 	}
 	
 	/**
-	 * ²һ̳߳
-	 * @param threadCount ߳õ
+	 * 根据Env.isWorkStealing()创建相应实现的线程池
+	 * @param threadCount 线程数
+	 * @return ThreadPool
+	 */
+	private static ThreadPool createThreadPool(int threadCount) {
+		if (Env.isWorkStealing()) {
+			return new WorkStealingThreadPool(threadCount);
+		} else {
+			return new ThreadPool(threadCount);
+		}
+	}
+	
+	/**
+	 * 检查工作线程是否存活，死掉的线程重新创建
+	 */
+	protected void checkThreads() {
+		for (int i = 0, len = threads.length; i < len; ++i) {
+			if (!threads[i].isAlive()) {
+				threads[i] = new WorkThread(threads[i].getThreadGroup(), "ThreadPool" + i);
+				threads[i].setDaemon(true);
+				threads[i].start();
+			}
+		}
+	}
+	
+	/**
+	 * 返回线程池是否已经关闭
+	 * @return true：已关闭
+	 */
+	protected boolean isShutdown() {
+		return shutdown;
+	}
+	
+	/**
+	 * 新产生一个线程池
+	 * @param threadCount 线程数，如果超过了配置的最大并行数则采用最大并行数
 	 * @return ThreadPool
 	 */
 	public static synchronized ThreadPool newInstance(int threadCount) {
@@ -127,12 +161,12 @@ public class ThreadPool{
 			}
 		}
 		
-		return new ThreadPool(threadCount);
+		return createThreadPool(threadCount);
 	}
 
 	/**
-	 * ڵҪϸִУҪ֧1
-	 * @param size ߳
+	 * 节点机需要严格串行执行，需要支持1个队列
+	 * @param size 线程数
 	 * @return
 	 */
 	public static synchronized ThreadPool newSpecifiedInstance(int size) {
@@ -141,11 +175,11 @@ public class ThreadPool{
 			n = 1;
 		}
 		
-		return new ThreadPool(n);
+		return createThreadPool(n);
 	}
 
 	/**
-	 * رѾ̳߳ʵ̳߳ʵܼʹ
+	 * 关闭已经产生线程池实例，该线程池实例不能继续使用
 	 */
 	public synchronized void shutdown() {
 		shutdown = true;
@@ -156,7 +190,7 @@ public class ThreadPool{
 	}
 
 	/**
-	 * ύһأjob.joinȴ
+	 * 提交一个任务，立即返回，job.join等待任务结束
 	 * @param job Job
 	 */
 	public void submit(Job job) {
@@ -178,7 +212,7 @@ public class ThreadPool{
 	}
 
 	/**
-	 * ̳߳߳
+	 * 返回线程池里的线程数量
 	 * @return
 	 */
 	public int getThreadCount() {
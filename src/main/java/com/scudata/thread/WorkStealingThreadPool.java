@@ -0,0 +1,217 @@
+package com.scudata.thread;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 工作窃取方式的线程池，由Env.setWorkStealing(true)启用
+ * 每个工作线程有自己的任务队列，工作线程内提交的任务放入自己的队列，其它线程提交的任务放入共享队列
+ * 工作线程先从自己的队列尾部取任务，再从共享队列取，最后从其它工作线程的队列头部窃取
+ * 工作线程内等待任务完成时会帮忙执行其它任务而不是挂起，嵌套提交任务时不会因为线程都在等待而死锁
+ * @author WangXiaoJun
+ *
+ */
+class WorkStealingThreadPool extends ThreadPool {
+	private StealingThread[] threads;
+	private ConcurrentLinkedQueue<Job> sharedQueue = new ConcurrentLinkedQueue<Job>(); // 外部线程提交的任务
+	private AtomicInteger idleCount = new AtomicInteger(); // 空闲等待的线程数
+	private Object idleLock = new Object(); // 空闲线程在此对象上等待
+	private volatile boolean shutdown; // 是否关闭线程
+
+	// 线程池启动的工作线程
+	class StealingThread extends Thread {
+		private final int index; // 线程序号
+		private final ConcurrentLinkedDeque<Job> deque; // 本线程的任务队列
+
+		private StealingThread(ThreadGroup group, String name, int index, ConcurrentLinkedDeque<Job> deque) {
+			super(group, name);
+			this.index = index;
+			this.deque = deque;
+		}
+
+		public void run() {
+			while (!shutdown) {
+				Job job = findJob(this);
+				if (job != null) {
+					runJob(job);
+					continue;
+				}
+
+				// 先登记成空闲再检查任务，避免和submit之间丢失唤醒
+				idleCount.incrementAndGet();
+				try {
+					synchronized(idleLock) {
+						if (!shutdown && !hasJob()) {
+							idleLock.wait();
+						}
+					}
+				} catch (InterruptedException e) {
+					if (shutdown) {
+						return;
+					}
+				} finally {
+					idleCount.decrementAndGet();
+				}
+			}
+		}
+
+		/**
+		 * 等待指定任务完成，等待期间执行其它任务
+		 * 没有可执行的任务时返回，由调用者挂起等待
+		 * @param job 需要等待的任务
+		 */
+		void helpJoin(Job job) {
+			while (!job.isFinished()) {
+				Job other = findJob(this);
+				if (other == null) {
+					return;
+				}
+
+				runJob(other);
+			}
+		}
+
+		private WorkStealingThreadPool getPool() {
+			return WorkStealingThreadPool.this;
+		}
+	}
+
+	WorkStealingThreadPool(int threadCount) {
+		ThreadGroup group = Thread.currentThread().getThreadGroup();
+		threads = new StealingThread[threadCount];
+		for (int i = 0; i < threadCount; ++i) {
+			threads[i] = new StealingThread(group, "ThreadPool" + i, i, new ConcurrentLinkedDeque<Job>());
+			threads[i].setDaemon(true);
+		}
+
+		// 线程会窃取其它线程的任务，所以需要全部创建完再启动
+		for (int i = 0; i < threadCount; ++i) {
+			threads[i].start();
+		}
+	}
+
+	private static void runJob(Job job) {
+		try {
+			job.run();
+		} catch (Throwable e) {
+			job.setError(e);
+		}
+
+		job.finish();
+	}
+
+	/**
+	 * 为指定工作线程找一个可执行的任务
+	 * @param thread 工作线程
+	 * @return Job 没有任务则返回空
+	 */
+	private Job findJob(StealingThread thread) {
+		Job job = thread.deque.pollLast();
+		if (job != null) {
+			return job;
+		}
+
+		job = sharedQueue.poll();
+		if (job != null) {
+			return job;
+		}
+
+		// 从其它线程的队列头部窃取任务
+		StealingThread[] threads = this.threads;
+		int count = threads.length;
+		for (int i = 1; i < count; ++i) {
+			StealingThread victim = threads[(thread.index + i) % count];
+			job = victim.deque.pollFirst();
+			if (job != null) {
+				return job;
+			}
+		}
+
+		return null;
+	}
+
+	private boolean hasJob() {
+		if (!sharedQueue.isEmpty()) {
+			return true;
+		}
+
+		for (StealingThread thread : threads) {
+			if (!thread.deque.isEmpty()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * 提交一个任务，立即返回，job.join等待任务完成
+	 * 工作线程内提交的任务放入本线程的队列，否则放入共享队列
+	 * @param job Job
+	 */
+	public void submit(Job job) {
+		job.reset();
+		Thread current = Thread.currentThread();
+		if (current instanceof StealingThread && ((StealingThread)current).getPool() == this) {
+			((StealingThread)current).deque.addLast(job);
+		} else {
+			sharedQueue.offer(job);
+		}
+
+		if (idleCount.get() > 0) {
+			synchronized(idleLock) {
+				idleLock.notify();
+			}
+		}
+	}
+
+	protected void checkThreads() {
+		StealingThread[] threads = this.threads;
+		for (int i = 0, len = threads.length; i < len; ++i) {
+			if (!threads[i].isAlive()) {
+				// 新线程接管死掉线程的任务队列
+				StealingThread thread = new StealingThread(threads[i].getThreadGroup(), "ThreadPool" + i, i, threads[i].deque);
+				thread.setDaemon(true);
+				thread.start();
+				threads[i] = thread;
+			}
+		}
+	}
+
+	protected boolean isShutdown() {
+		return shutdown;
+	}
+
+	/**
+	 * 关闭已经产生线程池实例，此线程池实例不能继续使用
+	 */
+	public synchronized void shutdown() {
+		shutdown = true;
+		sharedQueue.clear();
+		for (StealingThread thread : threads) {
+			thread.deque.clear();
+		}
+
+		synchronized(idleLock) {
+			idleLock.notifyAll();
+		}
+	}
+
+	protected void finalize() throws Throwable {
+		try {
+			if (!shutdown) {
+				shutdown();
+			}
+		} catch (Throwable e) {
+		}
+	}
+
+	/**
+	 * 返回线程池里的线程数量
+	 * @return
+	 */
+	public int getThreadCount() {
+		return threads.length;
+	}
+}
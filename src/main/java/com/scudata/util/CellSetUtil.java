@@ -31,20 +31,20 @@ import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
 /**
- * д
+ * 程序网读写工具类
  * @author WangXiaoJun
  *
  */
 public class CellSetUtil {
 	private static final byte Type_PgmCellSet = 1;
-	private static final String KEY = "rqqrrqqr"; // Կ
+	private static final String KEY = "rqqrrqqr"; // 加密密钥
 	private static final byte ENCRYPTED = 0x01;
 
 	/**
-	 * д
-	 *  + 汾 + 볤 +  + Գ +  + Ƿ +  + 
-	 * @param out 
-	 * @param cs 
+	 * 写程序网
+	 * 网格类型 + 版本 + 密码长度 + 密码 + 属性长度 + 属性 + 是否加密 + 网长度 + 网内容
+	 * @param out 输出流
+	 * @param cs 程序网对象
 	 * @throws Exception
 	 */
 	public static void writePgmCellSet(OutputStream out, PgmCellSet cs) throws Exception {
@@ -52,10 +52,10 @@ public class CellSetUtil {
 		out.write('Q');
 		out.write('Q');
 		out.write('R');
-		out.write(Type_PgmCellSet); // 
-		out.write(4); // 汾4ĳvalueʵֵeditValueֵ
+		out.write(Type_PgmCellSet); // 网格类型
+		out.write(4); // 版本4：网格参数改成了value存真实值，editValue存输入值
 
-		// 볤+
+		// 密码长度+密码
 		ByteArrayOutputRecord bo = new ByteArrayOutputRecord();
 		String psw = cs.getPasswordHash();
 		bo.writeString(psw);
@@ -67,7 +67,7 @@ public class CellSetUtil {
 		IOUtils.writeInt(out, pswBytes.length);
 		out.write(pswBytes);
 
-		// Գ+
+		// 属性长度+属性
 		ByteMap map = cs.getCustomPropMap();
 		if (map == null || map.size() == 0) {
 			IOUtils.writeInt(out, 0);
@@ -79,9 +79,9 @@ public class CellSetUtil {
 
 		byte[] csBytes = cs.serialize();
 		if (psw == null || psw.length() == 0) {
-			out.write(0); // ûм
+			out.write(0); // 网格内容没有加密
 		} else {
-			out.write(ENCRYPTED); // ݼ
+			out.write(ENCRYPTED); // 网格内容加密
 			DES des = new DES(KEY);
 			csBytes = des.encrypt(csBytes);
 		}
@@ -97,8 +97,8 @@ public class CellSetUtil {
 	}
 
 	/**
-	 * ļǷ
-	 * @param fileName String ļ·
+	 * 返回网格文件是否加密了
+	 * @param fileName String 文件路径名
 	 * @return boolean
 	 */
 	public static boolean isEncrypted(String fileName) {
@@ -120,8 +120,8 @@ public class CellSetUtil {
 	}
 
 	/**
-	 * ļǷ
-	 * @param is InputStream 
+	 * 返回网格文件是否加密了
+	 * @param is InputStream 输入流
 	 * @return boolean
 	 */
 	public static boolean isEncrypted(InputStream is) {
@@ -135,12 +135,12 @@ public class CellSetUtil {
 				return false;
 			}
 
-			int type = is.read(); // 
+			int type = is.read(); // 网格类型
 			if (type != Type_PgmCellSet) {
 				return false;
 			}
 
-			int ver = is.read(); // 汾
+			int ver = is.read(); // 版本
 			if (ver < 3) {
 				return false;
 			} else {
@@ -160,7 +160,7 @@ public class CellSetUtil {
 	}
 	
 	/**
-	 * ȡԶӳ
+	 * 读取网格的自定义属性映射
 	 * @param fileName String
 	 * @return ByteMap
 	 */
@@ -183,7 +183,7 @@ public class CellSetUtil {
 	}
 
 	/**
-	 * ȡԶӳ
+	 * 读取网格的自定义属性映射
 	 * @param is InputStream
 	 * @return ByteMap
 	 */
@@ -198,8 +198,8 @@ public class CellSetUtil {
 				return null;
 			}
 
-			int type = is.read(); // 
-			int ver = is.read(); // 汾
+			int type = is.read(); // 网格类型
+			int ver = is.read(); // 版本
 			if (ver > 1 || type != Type_PgmCellSet) {
 				int pswLen = IOUtils.readInt(is);
 				if (pswLen > 0) is.skip(pswLen);
@@ -221,9 +221,9 @@ public class CellSetUtil {
 	}
 
 	/**
-	 * д
-	 * @param fileName Ҫдļ
-	 * @param cs 
+	 * 写程序网
+	 * @param fileName 要写入程序网的文件名
+	 * @param cs 程序网对象
 	 * @throws Exception
 	 */
 	public static void writePgmCellSet(String fileName, PgmCellSet cs) throws Exception {
@@ -237,8 +237,8 @@ public class CellSetUtil {
 	}
 
 	/**
-	 * 
-	 * @param is InputStream 
+	 * 读程序网
+	 * @param is InputStream 输入流
 	 * @throws Exception
 	 * @return PgmCellSet
 	 */
@@ -247,7 +247,7 @@ public class CellSetUtil {
 	}
 
 	private static void changeOldVersionParam(PgmCellSet pcs) {
-		// 汾С4ĲֵǱ༭ֵ
+		// 版本小于4的网格里的参数值存的是编辑值
 		ParamList paramList = pcs.getParamList();
 		if (paramList == null) {
 			return;
@@ -278,9 +278,9 @@ public class CellSetUtil {
 	}
 	
 	/**
-	 * 
-	 * @param is 
-	 * @param psw 룬ûΪ
+	 * 读程序网
+	 * @param is 输入流
+	 * @param psw 密码，没有密码则为空
 	 * @return PgmCellSet
 	 * @throws Exception
 	 */
@@ -290,14 +290,14 @@ public class CellSetUtil {
 			throw new RQException(mm.getMessage("license.fileFormatError"));
 		}
 
-		int type = is.read(); // 
+		int type = is.read(); // 网格类型
 		if (type != Type_PgmCellSet) {
 			MessageManager mm = EngineMessage.get();
 			throw new RQException(mm.getMessage("license.fileFormatError"));
 		}
 
 		PgmCellSet cs = new PgmCellSet();
-		int ver = is.read(); // 汾
+		int ver = is.read(); // 版本
 		
 		if (ver == 1) {
 			int mapLen = IOUtils.readInt(is);
@@ -312,7 +312,7 @@ public class CellSetUtil {
 			is.read(); // Q
 			is.read(); // R
 
-			// ȰǩлҪǷǩ
+			// 先把签名读出来，序列化是需要检查是否签名了
 			cs.fillRecord(csBytes);
 			changeOldVersionParam(cs);
 			return cs;
@@ -341,7 +341,7 @@ public class CellSetUtil {
 			is.skip(mapLen);
 		}
 
-		// ǷмȨ
+		// 是否有加密权限
 		int isEncrypted = is.read() & ENCRYPTED;
 		int csLen = IOUtils.readInt(is);
 		byte []csBytes = new byte[csLen];
@@ -352,7 +352,7 @@ public class CellSetUtil {
 		is.read(); // Q
 		is.read(); // R
 
-		if (isEncrypted == ENCRYPTED) { // ܳ
+		if (isEncrypted == ENCRYPTED) { // 加密程序网
 			DES des = new DES(KEY);
 			csBytes = des.decrypt(csBytes);
 		}
@@ -361,7 +361,7 @@ public class CellSetUtil {
 		cs.setCurrentPassword(psw);
 		
 		if (ver < 4) {
-			// 汾С4ĲֵǱ༭ֵ
+			// 版本小于4的网格里的参数值存的是编辑值
 			changeOldVersionParam(cs);
 		}
 		
@@ -369,8 +369,8 @@ public class CellSetUtil {
 	}
 
 	/**
-	 * 
-	 * @param fileName ļ
+	 * 读程序网
+	 * @param fileName 程序网文件名
 	 * @throws Exception
 	 * @return PgmCellSet
 	 */
@@ -379,10 +379,10 @@ public class CellSetUtil {
 	}
 
 	/**
-	 * ܵĳ
-	 * @param fileName ļ
+	 * 读加了密的程序网
+	 * @param fileName 程序网文件名
 	 * @throws Exception
-	 * @param psw String 
+	 * @param psw String 密码
 	 * @return PgmCellSet
 	 */
 	public static PgmCellSet readPgmCellSet(String fileName, String psw) throws Exception {
@@ -399,7 +399,7 @@ public class CellSetUtil {
 	/**
 	 * @param cellSet CellSet
 	 * @param args String[]
-	 * Esproc Ϊdos뷽ʽֵͨΪ,Ҫȼputcontext
+	 * Esproc 为dos命令输入方式，值通常为串数组,需要先计算再put到context。
 	 */
 	public static void putArgStringValue(CellSet cellSet,String[] args) {
 		if( args==null ) {
@@ -415,10 +415,10 @@ public class CellSetUtil {
 	}
 
 	/**
-	 * argsֵcellSetв
-	 * @param cellSet CellSetҪõ
-	 * @param args Object[]ûĴ͵ĲֵΪEsprocԼdataHubмǰ׼xq
-	 * DataHubΪJDBC÷ʽֵõObject顣
+	 * 把args的值依cellSet中参数次序依次设置
+	 * @param cellSet CellSet，要设置的网格对象
+	 * @param args Object[]，用户输入的串类型的参数值，方法为Esproc以及dataHub中计算网格前准备，xq
+	 * DataHub为JDBC调用方式，值都是算好的Object数组。
 	 */
 	public static void putArgValue(CellSet cellSet,Object[] args) {
 		ParamList params = cellSet.getParamList();
@@ -445,14 +445,14 @@ public class CellSetUtil {
 	}
 	
 	/**
-	 * ִеʽ
-	 * @param src ʽ
-	 * @param args ֵɵУargi
+	 * 执行单表达式，不生成网格
+	 * @param src 表达式
+	 * @param args 参数值构成的序列，用argi引用
 	 * @param ctx
 	 * @return
 	 */
 	public static Object execute1(String src, Sequence args, Context ctx) {
-		// еĲ̶"arg"ͷ
+		// 语句中的参数，固定以"arg"开头
 		if (args != null && args.length() > 0) {
 			for (int i = 1; i <= args.length(); ++i) {
 				ctx.setParamValue("arg" + i, args.get(i));
@@ -464,16 +464,16 @@ public class CellSetUtil {
 	}
 
 	/**
-	 * ִбʽtabָûسָ
+	 * 执行表达式串，列用tab分隔，行用回车分隔
 	 * @param src
-	 * @param args ֵɵУargi
+	 * @param args 参数值构成的序列，用argi引用
 	 * @param ctx
 	 * @return
 	 */
 	public static Object execute(String src, Sequence args, Context ctx) {
 		PgmCellSet pcs = toPgmCellSet(src);
 		
-		// еĲ̶"arg"ͷ
+		// 语句中的参数，固定以"arg"开头
 		if (args != null && args.length() > 0) {
 			for (int i = 1; i <= args.length(); ++i) {
 				ctx.setParamValue("arg" + i, args.get(i));
@@ -501,9 +501,9 @@ public class CellSetUtil {
 	}
 	
 	/**
-	 * Ԫʽάɳ
-	 * @param expStrs Ԫʽɵжά
-	 * @return 
+	 * 单元格表达式二维数组生成程序网
+	 * @param expStrs 单元格表达式组成的行列二维数组
+	 * @return 程序网
 	 */
 	public static PgmCellSet toPgmCellSet(String[][]expStrs) {
 		if (expStrs == null || expStrs.length == 0) {
@@ -537,8 +537,8 @@ public class CellSetUtil {
 	}
 	
 	/**
-	 * ַָĸ
-	 * @param src ַtabָûسָ
+	 * 分隔字符串，填到程序网的格子里
+	 * @param src 字符串，列用tab分隔，行用回车分隔
 	 * @return
 	 */
 	public static PgmCellSet toPgmCellSet(String src) {
@@ -548,7 +548,7 @@ public class CellSetUtil {
 		int len = buffer.length;
 		int index = 0;
 		
-		// ͷnǲ
+		// 开头的n行是参数
 		// #var1=xxx
 		// #var2=xxx
 		ParamList paramList = new ParamList();
@@ -626,8 +626,8 @@ public class CellSetUtil {
 		return pcs;
 	}
 	
-	// ıп@x:...Ԫһʽͨø
-	// ѱתɸӵ
+	// 文本程序中可以用@x:...给单元格定义一个别名，表达式可以通过这个别名引用格子
+	// 读成网格后把别名的引用转成格子的引用
 	private static void changeAliasNameToCell(PgmCellSet pcs) {
 		int rowCount = pcs.getRowCount();
 		int colCount = pcs.getColCount();
@@ -699,7 +699,7 @@ public class CellSetUtil {
 					i = match + 1;
 				}
 			} else if (KeyWord.isSymbol(c) || c == '#') {
-				// #aliasNameȡforĵǰѭ
+				// #aliasName用于取for的当前循环序号
 				if (sb != null) {
 					sb.append(c);
 				}
@@ -732,10 +732,10 @@ public class CellSetUtil {
 	}
 	
 	/**
-	 * ѳתΪַ,ͷnǲ
+	 * 把程序网转为字符串,开头的n行是参数
 	 * #var1=***
 	 * #var2=***
-	 * @param cs 
+	 * @param cs 程序网
 	 * @return String
 	 */
 	public static String toString(PgmCellSet cs) {
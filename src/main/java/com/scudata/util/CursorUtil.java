@@ -24,8 +24,10 @@ import com.scudata.dm.Env;
 import com.scudata.dm.FileObject;
 import com.scudata.dm.HashArraySet;
 import com.scudata.dm.IndexTable;
+import com.scudata.dm.IntHashIndexTable;
 import com.scudata.dm.ListBase1;
 import com.scudata.dm.Record;
+import com.scudata.dm.RunFileWriter;
 import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
 import com.scudata.dm.comparator.*;
@@ -46,11 +48,12 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.thread.GroupsJob;
 import com.scudata.thread.GroupxJob;
 import com.scudata.thread.MultithreadUtil;
+import com.scudata.thread.SortxJob;
 import com.scudata.thread.ThreadPool;
 
 public final class CursorUtil {
 	/**
-	 * ȡαݽṹ
+	 * 取游标的数据结构
 	 * @param cs
 	 * @return
 	 */
@@ -68,14 +71,14 @@ public final class CursorUtil {
 	}
 
 	/**
-	 * нвз
-	 * @param src 
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 对序列进行并行分组
+	 * @param src 序列
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 * @returns
 	 */
 	public static Table groups_m(Sequence src, Expression[] exps, String[] names,
@@ -94,12 +97,12 @@ public final class CursorUtil {
 		int singleCount = len / threadCount;
 		int keyCount = exps == null ? 0 : exps.length;
 		
-		// ɷύ̳߳
+		// 生成分组任务并提交给线程池
 		ThreadPool pool = ThreadPool.instance();
 		GroupsJob []jobs = new GroupsJob[threadCount];
 		
 		int start = 1;
-		int end; // 
+		int end; // 不包括
 		for (int i = 0; i < threadCount; ++i) {
 			if (i + 1 == threadCount) {
 				end = len + 1;
@@ -117,7 +120,7 @@ public final class CursorUtil {
 			start = end;
 		}
 		
-		// ȴִϣѽӵһ
+		// 等待分组任务执行完毕，并把结果添加到一个序表
 		Table result = null;
 		IGroupsResult groupsResult = null;
 		
@@ -136,7 +139,7 @@ public final class CursorUtil {
 			return result;
 		}
 		
-		// ɶηʽ
+		// 生成二次分组分组表达式
 		Expression []keyExps = null;
 		if (keyCount > 0) {
 			keyExps = new Expression[keyCount];
@@ -145,7 +148,7 @@ public final class CursorUtil {
 			}
 		}
 
-		// ɶηܱʽavgֳܱsumcountнм
+		// 生成二次分组汇总表达式，avg可能被分成sum、count两列进行计算
 		Expression []valExps = groupsResult.getRegatherExpressions();
 		DataStruct tempDs = groupsResult.getRegatherDataStruct();
 		int tempFieldCount = tempDs.getFieldCount();
@@ -168,7 +171,7 @@ public final class CursorUtil {
 			}
 		}
 		
-		// жη
+		// 进行二次分组
 		result = result.groups(keyExps, names, valExps, calcNames, opt, ctx);
 		Expression []newExps = groupsResult.getResultExpressions();
 		if (newExps != null) {
@@ -179,16 +182,16 @@ public final class CursorUtil {
 	}
 		
 	/**
-	 * 趨ﵽֵֹͣ
-	 * @param cursor α
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param calcExps ֶαʽ
-	 * @param calcNames ֶ
+	 * 设定最大分组数，当分组数达到这个值则停止分组
+	 * @param cursor 游标
+	 * @param exps 分组字段表达式数组
+	 * @param names 分组字段名数组
+	 * @param calcExps 汇总字段表达式数组
+	 * @param calcNames 汇总字段名数组
 	 * @param maxGroupCount
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return 
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 分组结果
 	 */
 	public static Table fuzzyGroups(ICursor cursor, Expression[] exps, String[] names, 
 			Expression[] calcExps, String[] calcNames, String opt, Context ctx, int maxGroupCount) {
@@ -294,12 +297,12 @@ public final class CursorUtil {
 	}
 
 	/**
-	 * нйϣ
-	 * @param src 
-	 * @param exps ʽ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return 
+	 * 对序列进行哈希分组
+	 * @param src 序列
+	 * @param exps 分组表达式数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 分组结果
 	 */
 	public static Sequence hashGroup(Sequence src, Expression[] exps, String opt, Context ctx) {
 		if (src == null || src.length() == 0) {
@@ -450,11 +453,11 @@ public final class CursorUtil {
 	}
 
 	/**
-	 * нйϣ
-	 * @param src 
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return 
+	 * 对序列进行哈希分组
+	 * @param src 序列
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 分组结果
 	 */
 	public static Sequence hashGroup(Sequence src, String opt) {
 		if (src == null || src.length() == 0) return new Sequence(0);
@@ -522,11 +525,11 @@ public final class CursorUtil {
 	}
 
 	/**
-	 * нйϣȥ
-	 * @param src 
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return 
+	 * 对序列进行哈希去重
+	 * @param src 序列
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 分组结果
 	 */
 	public static Sequence hashId(Sequence src, String opt) {
 		int len = src.length();
@@ -564,15 +567,15 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * б鲢
-	 * @param groups б
-	 * @param keyCount ֶ
-	 * @param type ͣ0join1left join2full join
+	 * 对有序列表数组做归并连接
+	 * @param groups 列表数组
+	 * @param keyCount 关联字段数
+	 * @param type 连接类型，0：join，1：left join，2：full join
 	 * @param out
 	 */
 	public static void join_m(ListBase1 []groups, int fcount, int type, Table out) {
 		int srcCount = groups.length;
-		int []ranks = new int[srcCount]; // ǰԪص01-1
+		int []ranks = new int[srcCount]; // 当前元素的排名，0、1、-1
 		int []curIndex = new int[srcCount];
 		for (int i = 0; i < srcCount; ++i) {
 			curIndex[i] = 1;
@@ -580,8 +583,8 @@ public final class CursorUtil {
 
 		Next:
 		while (true) {
-			boolean has = false; // Ƿеıû
-			boolean equals = true; // Ƿܹϵļ¼
+			boolean has = false; // 是否有的表还没遍历完
+			boolean equals = true; // 是否都有能关联上的记录
 			for (int i = 0; i < srcCount; ++i) {
 				ListBase1 group = groups[i];
 				if (group != null && group.size() >= curIndex[i]) {
@@ -589,13 +592,13 @@ public final class CursorUtil {
 					ranks[i] = 0;
 					Object []curValues = (Object[])group.get(curIndex[i]);
 					
-					// ǰֶεֵСıбȽϣ
+					// 与前面的连接字段的值最小的表进行比较，
 					for (int j = 0; j < i; ++j) {
 						if (ranks[j] == 0) {
 							Object [] prevValues = (Object[])groups[j].get(curIndex[j]);
 							int cmp = Variant.compareArrays(curValues, prevValues, fcount);
 							
-							// 淢ָСֵ޸
+							// 如果后面发现更小的值则修改排名
 							if (cmp < 0) {
 								equals = false;
 								ranks[j] = 1;
@@ -613,7 +616,7 @@ public final class CursorUtil {
 						}
 					}
 				} else {
-					// ǰѾ
+					// 当前表数据已经遍历完
 					if (type == 0 || (type == 1 && i == 0)) { // join
 						break Next;
 					}
@@ -626,7 +629,7 @@ public final class CursorUtil {
 			if (!has) {
 				break;
 			} else if ((!equals && type == 0) || (ranks[0] != 0 && type == 1)) {
-				// ڹϵıӻӶһֲֵСΪ0ļ¼
+				// 如果存在关联不上的表，并且是内连接或者是左连接而第一个表的值又不是最小，则跳过排名为0的记录
 				for (int i = 0; i < srcCount; ++i) {
 					if (ranks[i] == 0) {
 						ListBase1 group = groups[i];
@@ -644,7 +647,7 @@ public final class CursorUtil {
 					}
 				}
 			} else {
-				// ɹ¼
+				// 生成关联记录
 				int start = -1;
 				for (int i = 0; i < srcCount; ++i) {
 					if (ranks[i] == 0) {
@@ -698,13 +701,13 @@ public final class CursorUtil {
 	}
 
 	/**
-	 * Դݰֶ鲢
-	 * @param srcs 
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param type ͣ0join1left join2full join
-	 * @param ctx Context 
-	 * @return Table 
+	 * 源数据按关联字段有序，做归并连接
+	 * @param srcs 序列数组
+	 * @param exps 关联字段表达式数组
+	 * @param names 结果集字段名数组
+	 * @param type 连接类型，0：join，1：left join，2：full join
+	 * @param ctx Context 计算上下文
+	 * @return Table 关联结果
 	 */
 	public static Table mergeJoin(Sequence[] srcs, Expression[][] exps,
 								  String[] names, int type, Context ctx) {
@@ -725,7 +728,7 @@ public final class CursorUtil {
 			stack.push(current);
 
 			try {
-				// ֵֶԴ¼λ
+				// 算出关联字段值，源记录放在数组最后的位置
 				for (int i = 1; i <= len; ++i) {
 					Object []keys = new Object[count];
 					keys[keyCount] = src.getMem(i);
@@ -751,13 +754,13 @@ public final class CursorUtil {
 	}
 
 	/**
-	 * ϣֵùϣֵjoin
-	 * @param srcs 
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param type ͣ0join1left join2full join
-	 * @param ctx Context 
-	 * @return Table 
+	 * 计算哈希值，利用哈希值进行join
+	 * @param srcs 序列数组
+	 * @param exps 关联字段表达式数组
+	 * @param names 结果集字段名数组
+	 * @param type 连接类型，0：join，1：left join，2：full join
+	 * @param ctx Context 计算上下文
+	 * @return Table 关联结果
 	 */
 	public static Table hashJoin(Sequence[] srcs, Expression[][] exps,
 								 String[] names, int type, Context ctx) {
@@ -770,7 +773,7 @@ public final class CursorUtil {
 		ListBase1 [][]hashGroups = new ListBase1[hashUtil.getCapacity()][];
 		ComputeStack stack = ctx.getComputeStack();
 
-		// ÿаչֶνйϣ
+		// 对每个序列按照关联字段进行哈希分组
 		for (int s = 0; s < srcCount; ++s) {
 			Sequence src = srcs[s];
 			Expression []srcExps = exps[s];
@@ -802,7 +805,7 @@ public final class CursorUtil {
 						groups[s] = new ListBase1(INIT_GROUPSIZE);
 						groups[s].add(keys);
 					} else {
-						// ϣֵͬԪذչֶ򱣴
+						// 哈希值相同的元素按照关联字段有序保存
 						int index = HashUtil.bsearch_a(groups[s], keys, keyCount);
 						if (index < 1) {
 							groups[s].add(-index, keys);
@@ -818,7 +821,7 @@ public final class CursorUtil {
 
 		Table out = new Table(names);
 		for (int i = 0, len = hashGroups.length; i < len; ++i) {
-			// ÿϣ鲢
+			// 对每个哈希点做有序归并连接
 			if (hashGroups[i] != null) {
 				join_m(hashGroups[i], keyCount, type, out);
 				hashGroups[i] = null;
@@ -829,13 +832,13 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * ֶͬ
-	 * @param srcs 
-	 * @param exps ֶαʽ
-	 * @param names ֶ
-	 * @param type ͣ0join1left join2full join
-	 * @param ctx Context 
-	 * @return Table 
+	 * 关联字段数不相同的连接
+	 * @param srcs 序列数组
+	 * @param exps 关联字段表达式数组
+	 * @param names 结果集字段名数组
+	 * @param type 连接类型，0：join，1：left join，2：full join
+	 * @param ctx Context 计算上下文
+	 * @return Table 关联结果
 	 */
 	public static Table mixJoin(Sequence[] srcs, Expression[][] exps,
 			 String[] names, int type, Context ctx) {
@@ -850,7 +853,7 @@ public final class CursorUtil {
 			}
 		}
 		
-		// ҳǰֶͬı
+		// 找出前面关联字段数相同的表
 		int next = 2;
 		for (; next < tcount; ++next) {
 			Expression []tmp = exps[next];
@@ -881,7 +884,7 @@ public final class CursorUtil {
 			}
 		}
 		
-		// Թֶͬıϣ
+		// 对关联字段相同的表做哈希连接
 		Table prevResult = hashJoin(tmpSeqs, tmpExps, tmpNames, type, ctx);
 		
 		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize();
@@ -889,7 +892,7 @@ public final class CursorUtil {
 		ComputeStack stack = ctx.getComputeStack();
 		
 		for (; next < tcount; ++next) {
-			// ҳǰһĹֶ
+			// 找出当前表与第一个表的关联字段
 			prevExps = exps[next];
 			prevLen = prevExps.length;
 			seqList.clear();;
@@ -915,7 +918,7 @@ public final class CursorUtil {
 			stack.push(current);
 			
 			try {
-				// Եһϣ
+				// 对第一个表做哈希分组
 				for (int i = 1, len = value.length(); i <= len; ++i) {
 					Object []keys = new Object[count];
 					keys[keyCount] = prevResult.getMem(i);
@@ -952,7 +955,7 @@ public final class CursorUtil {
 			stack.push(current);
 			
 			try {
-				// Եǰϣ
+				// 对当前表做哈希分组
 				for (int i = 1, len = value.length(); i <= len; ++i) {
 					Object []keys = new Object[count];
 					keys[keyCount] = value.getMem(i);
@@ -984,7 +987,7 @@ public final class CursorUtil {
 				stack.pop();
 			}
 			
-			// ÿϣ鲢
+			// 对每个哈希点做有序归并连接
 			Table out = new Table(new String[2]);
 			for (int i = 0, len = hashGroups.length; i < len; ++i) {
 				if (hashGroups[i] != null) {
@@ -993,7 +996,7 @@ public final class CursorUtil {
 				}
 			}
 			
-			// չ
+			// 展开关联结果
 			String []curNames = new String[next + 1];
 			System.arraycopy(names, 0, curNames, 0, next + 1);
 			int len = out.length();
@@ -1010,12 +1013,12 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * Եһӹ
-	 * @param srcs 
-	 * @param exps ʽ
-	 * @param opt ѡm򣬲ù鲢ӣi1ܹϵļ¼d1йϵļ¼
-	 * @param ctx 
-	 * @return Sequence 1˺ļ¼ɵ
+	 * 做对第一个排列做连接过滤
+	 * @param srcs 排列数组
+	 * @param exps 关联表达式数组
+	 * @param opt 选项，m：有序，采用归并法做连接，i：仅保留排列1中能关联上的记录，d：仅保留排列1中关联不上的记录
+	 * @param ctx 计算上下文
+	 * @return Sequence 排列1过滤后的记录组成的序列
 	 */
 	public static Sequence filterJoin(Sequence[] srcs, Expression[][] exps, String opt, Context ctx) {
 		if (opt.indexOf('m') != -1) {
@@ -1038,7 +1041,7 @@ public final class CursorUtil {
 				return new Sequence();
 			}
 			
-			// ҳʽnull
+			// 找出关联表达式，忽略null
 			ArrayList<Expression> expList0 = new ArrayList<Expression>();
 			ArrayList<Expression> expList = new ArrayList<Expression>();
 			Expression []curExps = exps[s];
@@ -1056,7 +1059,7 @@ public final class CursorUtil {
 			expList.toArray(curExps);
 			Sequence result = new Sequence(seq.length());
 			
-			// ݵǰѭıʽֵɹϣ
+			// 根据当前循环的表计算表达式的值并生成哈希集合
 			Sequence curSeq = srcs[s];
 			Current current = new Current(curSeq);
 			stack.push(current);
@@ -1078,7 +1081,7 @@ public final class CursorUtil {
 				stack.pop();
 			}
 			
-			// ѭһеǰĹϣƥ
+			// 循环第一个序列到前面的哈希集合找匹配
 			len = seq.length();
 			Object []keys = new Object[keyCount];
 			current = new Current(seq);
@@ -1119,13 +1122,13 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * αԹֶ鲢
-	 * @param cursors α
-	 * @param names ֶ
-	 * @param exps ֶαʽ
-	 * @param opt ѡ
-	 * @param ctx Context 
-	 * @return ICursor α
+	 * 游标对关联字段有序，做有序归并连接
+	 * @param cursors 游标数组
+	 * @param names 结果集字段名数组
+	 * @param exps 关联字段表达式数组
+	 * @param opt 选项
+	 * @param ctx Context 计算上下文
+	 * @return ICursor 结果集游标
 	 */
 	public static ICursor joinx(ICursor []cursors, String []names, Expression [][]exps, String opt, Context ctx) {
 		boolean isPJoin = false, isIsect = false, isDiff = false;
@@ -1140,8 +1143,8 @@ public final class CursorUtil {
 		}
 		
 		int count = cursors.length;
-		boolean isCluster = true; // ǷмȺα
-		boolean isMultipath = false; // ǷǶ·α
+		boolean isCluster = true; // 是否有集群游标
+		boolean isMultipath = false; // 是否是多路游标连接
 		int pathCount = 1;
 		
 		for (int i = 0; i < count; ++i) {
@@ -1166,7 +1169,7 @@ public final class CursorUtil {
 			System.arraycopy(cursors, 0, tmp, 0, count);
 			return ClusterCursor.joinx(tmp, exps, names, opt, ctx);
 		} else if (isMultipath && pathCount > 1) {
-			// ·αֶͬΣֻҪÿӦ·Ӽ
+			// 多路游标会做同步分段，只要每个表的相应路做连接即可
 			ICursor []result = new ICursor[pathCount];
 			ICursor [][]multiCursors = new ICursor[count][];
 			for (int i = 0; i < count; ++i) {
@@ -1210,7 +1213,7 @@ public final class CursorUtil {
 				}
 			}
 			
-			// ÿһ·Ĺɶ·α
+			// 每一路的关联结果再组成多路游标
 			return new MultipathCursors(result, ctx);
 		} else if (isPJoin) {
 			return new PJoinCursor(cursors, names);
@@ -1218,7 +1221,7 @@ public final class CursorUtil {
 			return new MergeFilterCursor(cursors, exps, opt, ctx);
 		} else {
 			if (count == 2 && exps[0].length == 1) {
-				// ԹֶθΪ1Ż
+				// 对关联字段个数为1的两表连接做优化
 				return new JoinxCursor2(cursors[0], exps[0][0], cursors[1], exps[1][0], names, opt, ctx);
 			} else {
 				return new JoinxCursor(cursors, exps, names, opt, ctx);
@@ -1236,7 +1239,7 @@ public final class CursorUtil {
 		ComputeStack stack = ctx.getComputeStack();
 		Current current = new Current(seq);
 		
-		//ÿf/T
+		//遍历处理每个f/T
 		int len = seq.length();
 		int fileCount =  fileTable.length;
 		Sequence []seqs = new Sequence[fileCount];
@@ -1270,7 +1273,7 @@ public final class CursorUtil {
 					reader = new BFileReader((FileObject) fileOrTable);
 				}
 				
-				//Ҫӵıʽֵ
+				//获得要连接的表达式值
 				stack.push(current);
 				try {
 					for (int j = 1; j <= len; ++j) {
@@ -1289,7 +1292,7 @@ public final class CursorUtil {
 					stack.pop();
 				}
 				
-				//f/TöӦֵ
+				//从f/T里获得对应值
 				Sequence valueSeq = null;
 				if (hasC && i == 0) {}
 				else pkSeq.sort("o");
@@ -1336,13 +1339,39 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * ϣ
-	 * @param data 
-	 * @param fkName ֶ
-	 * @param code ά
-	 * @param exp άʽ
-	 * @param opt ѡ
-	 * @param ctx 
+	 * 用整数索引对序表做关联，整批取出外键值一次查找，再把找到的维表记录设给外键字段
+	 * @param data 序表
+	 * @param col 外键字段序号
+	 * @param indexTable 维表的整数索引
+	 * @param codeDs 左连接时维表的数据结构，找不到时用它生成记录，为空则设为空值
+	 * @param keySeq 左连接时维表主键字段的序号
+	 */
+	public static void intHashSwitch(Table data, int col, IntHashIndexTable indexTable, DataStruct codeDs, int keySeq) {
+		IArray keys = data.getFieldValueArray(col);
+		int []pos = indexTable.findAllPos(keys);
+		Object []values = indexTable.getMems(pos);
+		IArray mems = data.getMems();
+		
+		for (int i = 1, len = mems.size(); i <= len; ++i) {
+			BaseRecord cur = (BaseRecord)mems.get(i);
+			if (values[i] != null || codeDs == null) {
+				cur.setNormalFieldValue(col, values[i]);
+			} else {
+				Record record = new Record(codeDs);
+				record.setNormalFieldValue(keySeq, keys.get(i));
+				cur.setNormalFieldValue(col, record);
+			}
+		}
+	}
+	
+	/**
+	 * 对排列做哈希关联
+	 * @param data 序表
+	 * @param fkName 外键字段名
+	 * @param code 维表
+	 * @param exp 维表主键表达式
+	 * @param opt 选项
+	 * @param ctx 计算上下文
 	 */
 	public static void hashSwitch(Sequence data, String fkName, Sequence code,
 								  Expression exp, String opt, Context ctx) {
@@ -1353,19 +1382,19 @@ public final class CursorUtil {
 		boolean isIsect = false, isDiff = false, isLeft = false;
 		if (opt != null) {
 			if (opt.indexOf('i') != -1) {
-				// 
+				// 内连接
 				isIsect = true;
 			} else if (opt.indexOf('d') != -1) {
-				// 
+				// 做差
 				isDiff = true;
 			} else if (opt.indexOf('1') != -1) {
-				// ӣҲFӦֵʱݽṹɿֵ⣩¼Ӧ
+				// 左连接，找不到F对应值时，按参数数据结构生成空值（除主键外）记录对应
 				isLeft = true;
 			}
 		}
 		
-		int col = -1; // ֶһ¼
-		BaseRecord prevRecord = null; // һ¼
+		int col = -1; // 字段在上一条记录的索引
+		BaseRecord prevRecord = null; // 上一条记录
 
 		if (exp == null || !(exp.getHome() instanceof CurrentSeq)) { // #
 			IndexTable indexTable = code.getIndexTable(exp, ctx);
@@ -1373,6 +1402,16 @@ public final class CursorUtil {
 				indexTable = code.newIndexTable(exp, ctx);
 			}
 			
+			// 纯序表并且维表是整数索引时按批查找
+			int intCol = -1;
+			if (!isDiff && indexTable instanceof IntHashIndexTable && data instanceof Table) {
+				intCol = data.dataStruct().getFieldIndex(fkName);
+				if (intCol < 0) {
+					MessageManager mm = EngineMessage.get();
+					throw new RQException(fkName + mm.getMessage("ds.fieldNotExist"));
+				}
+			}
+			
 			if (isDiff) {
 				for (int i = 1, len = data.length(); i <= len; ++i) {
 					Object obj = data.getMem(i);
@@ -1388,7 +1427,7 @@ public final class CursorUtil {
 							prevRecord = cur;							
 						}
 						
-						// ҲʱԴֵ
+						// 找不到时保留源值
 						Object key = cur.getNormalFieldValue(col);
 						if (indexTable.find(key) != null) {
 							cur.setNormalFieldValue(col, null);
@@ -1421,6 +1460,11 @@ public final class CursorUtil {
 					keySeq = 0;
 				}
 				
+				if (intCol != -1) {
+					intHashSwitch((Table)data, intCol, (IntHashIndexTable)indexTable, codeDs, keySeq);
+					return;
+				}
+				
 				for (int i = 1, len = data.length(); i <= len; ++i) {
 					Object obj = data.getMem(i);
 					if (obj instanceof BaseRecord) {
@@ -1449,6 +1493,8 @@ public final class CursorUtil {
 						throw new RQException(mm.getMessage("engine.needPmt"));
 					}
 				}
+			} else if (intCol != -1) {
+				intHashSwitch((Table)data, intCol, (IntHashIndexTable)indexTable, null, 0);
 			} else {
 				for (int i = 1, len = data.length(); i <= len; ++i) {
 					Object obj = data.getMem(i);
@@ -1474,7 +1520,7 @@ public final class CursorUtil {
 				}
 			}
 		} else {
-			// άʽ#ôֵʵ϶Ӧά¼ţֱȡάļ¼
+			// 如果维表的主键表达式是#，那么外键的值实际上对应维表记录的序号，直接用序号取出维表的记录
 			int codeLen = code.length();
 			for (int i = 1, len = data.length(); i <= len; ++i) {
 				Object obj = data.getMem(i);
@@ -1494,7 +1540,7 @@ public final class CursorUtil {
 					if (val instanceof Number) {
 						int seq = ((Number)val).intValue();
 						if (isDiff) {
-							// ҲʱԴֵ
+							// 找不到时保留源值
 							if (seq > 0 && seq <= codeLen) {
 								cur.setNormalFieldValue(col, null);
 							}
@@ -1519,9 +1565,9 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * ڴܴȡʱȷÿȡټ¼
-	 * @param cursor α
-	 * @return 
+	 * 在内存充足的情况尽可能大的取数，用于外存排序时确定每次取多少记录
+	 * @param cursor 游标
+	 * @return 排列
 	 */
 	public static Sequence tryFetch(ICursor cursor) {
 		Runtime rt = Runtime.getRuntime();
@@ -1546,22 +1592,41 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * α
-	 * @param cursor α
-	 * @param exps ֶαʽ
-	 * @param ctx 
-	 * @param capacity ڴܹļ¼ûԶһ
-	 * @param opt ѡ 0null
-	 * @return źα
+	 * 对游标进行外存排序
+	 * @param cursor 游标
+	 * @param exps 排序字段表达式数组
+	 * @param ctx 计算上下文
+	 * @param capacity 内存中能够保存的记录数，如果没有设置则自动估算一个
+	 * @param opt 选项 0：null排最后
+	 * @return 排好序的游标
 	 */
 	public static ICursor sortx(ICursor cursor, Expression[] exps, Context ctx, int capacity, String opt) {
 		int fcount = exps.length;
 		ArrayList<ICursor> cursorList = new ArrayList<ICursor>();
 		
 		Sequence table;
-		if (capacity <= 1) {
-			// ܵĶȡݣԼʱļ
-			// ֮ÿȡ
+		long memory = Env.getSortxMemory();
+		if (memory > 0) {
+			// 设置了排序内存时先取一批数据，是纯排列则多线程排序
+			if (capacity > 1) {
+				table = cursor.fetch(capacity);
+			} else {
+				table = cursor.fetch(ICursor.INITSIZE);
+			}
+			
+			if (table != null && table.dataStruct() != null) {
+				return sortx(cursor, table, exps, ctx, capacity, opt, memory);
+			} else if (table != null && capacity <= 1) {
+				Sequence seq = tryFetch(cursor);
+				if (seq != null) {
+					table.getMems().addAll(seq.getMems());
+				}
+				
+				capacity = table.length();
+			}
+		} else if (capacity <= 1) {
+			// 尽可能的多取数据，这样可以减少临时文件的数量
+			// 之后每次取数的数量都用这个数
 			table = tryFetch(cursor);
 			if (table != null) {
 				capacity = table.length();
@@ -1575,8 +1640,8 @@ public final class CursorUtil {
 		Expression[] tempExps = exps.clone();
 		
 		while (table != null && table.length() > 0) {
-			// ֶαʽʱΪŻᱣ¼ָ
-			// Ϊ´ȡǰܹͷǰһεݣȸ±ʽźͷűʽ
+			// 字段表达式做运算时为了性能优化会保留记录的指针
+			// 为了在下次取数前能够释放前一次的数据，先复制下表达式，排好序后再释放表达式
 			for (int i = 0, len = tempExps.length; i < len; i++) {
 				tempExps[i] = exps[i].newExpression(ctx);
 			}
@@ -1588,23 +1653,23 @@ public final class CursorUtil {
 				sequence = table.sort(tempExps, null, opt, ctx);
 			}
 
-			// ǷԴͱʽ
+			// 是否源表和表达式
 			table = null;
 			for (int i = 0, len = tempExps.length; i < len; i++) {
 				tempExps[i] = null;
 			}
 			
-			// ʱļ
+			// 创建临时文件
 			FileObject fo = FileObject.createTempFileObject();
 			Logger.info(msg + fo.getFileName());
 			
-			// źдʱļ
+			// 把排好序的排列写出临时集文件
 			fo.exportSeries(sequence, "b", null);
 			sequence = null;
 			BFileCursor bfc = new BFileCursor(fo, null, "x", ctx);
 			cursorList.add(bfc);
 
-			// ȡ
+			// 继续取数据
 			table = cursor.fetch(capacity);
 		}
 
@@ -1615,7 +1680,7 @@ public final class CursorUtil {
 		} else if (size == 1) {
 			return (ICursor)cursorList.get(0);
 		} else {
-			// ʱļ鲢
+			// 对临时文件做归并
 			int bufSize = Env.getMergeFileBufSize(size);
 			for (int i = 0; i < size; ++i) {
 				BFileCursor bfc = (BFileCursor)cursorList.get(i);
@@ -1633,13 +1698,154 @@ public final class CursorUtil {
 	}
 
 	/**
-	 * ֵֶͬļ¼ֵͬͬ
-	 * ֵͬļ¼浽һʱļȻÿʱļ
-	 * @param cursor α
-	 * @param exps ʽ
-	 * @param gexp ʽ
-	 * @param ctx 
-	 * @param opt ѡ
+	 * 多线程外存排序，取出的数据交给线程池排序并写出到按列压缩的临时文件，然后用败者树归并
+	 * 同时在内存中的数据为每个线程正在排序的数据和正在取的数据，按内存预算确定每次取数的数量
+	 * @param cursor 游标
+	 * @param table 已经取出的第一批数据
+	 * @param exps 排序字段表达式数组
+	 * @param ctx 计算上下文
+	 * @param capacity 每个临时文件的记录数，小于等于1时按内存预算计算
+	 * @param opt 选项 0：null排最后
+	 * @param memory 可以使用的内存字节数
+	 * @return 排好序的游标
+	 */
+	private static ICursor sortx(ICursor cursor, Sequence table, Expression[] exps, 
+			Context ctx, int capacity, String opt, long memory) {
+		boolean isNullMin = opt == null || opt.indexOf('0') == -1;
+		DataStruct ds = table.dataStruct();
+		int threadCount = Env.getParallelNum();
+		if (threadCount < 1) {
+			threadCount = 1;
+		}
+		
+		if (capacity <= 1) {
+			// 每条记录还有排序时产生的排序字段值数组
+			int keyCount = exps.length;
+			long recordSize = EnvUtil.estimateRecordSize(table) + 24 + 32 * keyCount;
+			long count = memory / recordSize / (threadCount + 1);
+			if (count < ICursor.FETCHCOUNT) {
+				capacity = ICursor.FETCHCOUNT;
+			} else if (count > Integer.MAX_VALUE) {
+				capacity = Integer.MAX_VALUE;
+			} else {
+				capacity = (int)count;
+			}
+			
+			if (table.length() < capacity) {
+				Sequence seq = cursor.fetch(capacity - table.length());
+				if (seq != null) {
+					table.getMems().addAll(seq.getMems());
+				}
+			}
+		}
+		
+		ThreadPool pool = ThreadPool.newInstance(threadCount);
+		ArrayList<SortxJob> jobList = new ArrayList<SortxJob>();
+		ArrayList<RunFileWriter> runList = new ArrayList<RunFileWriter>();
+		RuntimeException exception = null;
+		
+		try {
+			int joinCount = 0;
+			while (table != null && table.length() > 0) {
+				DataStruct curDs = table.dataStruct();
+				if (curDs == null || (curDs != ds && !curDs.isCompatible(ds))) {
+					MessageManager mm = EngineMessage.get();
+					throw new RQException(mm.getMessage("engine.needPurePmt"));
+				}
+				
+				// 正在排序的任务数达到线程数时等待最早的任务完成，使内存中的数据不超过预算
+				if (jobList.size() - joinCount >= threadCount) {
+					jobList.get(joinCount++).join();
+				}
+				
+				Context tmpCtx = ctx.newComputeContext();
+				Expression []tmpExps = Operation.dupExpressions(exps, tmpCtx);
+				SortxJob job = new SortxJob(table, tmpExps, tmpCtx, isNullMin);
+				jobList.add(job);
+				pool.submit(job);
+				
+				table = null;
+				table = cursor.fetch(capacity);
+			}
+		} catch (RuntimeException e) {
+			exception = e;
+		}
+		
+		try {
+			// 等待排序任务执行完毕，按取数的顺序收集临时文件，使归并的结果是稳定的
+			for (SortxJob job : jobList) {
+				try {
+					job.join();
+				} catch (RuntimeException e) {
+					if (exception == null) {
+						exception = e;
+					}
+				}
+				
+				if (job.getResult() != null) {
+					runList.add(job.getResult());
+				}
+			}
+			
+			// 临时文件太多时相邻的文件分批归并，减少最后归并时同时打开的文件数
+			while (exception == null && runList.size() > RunMergeCursor.MAX_MERGE_COUNT) {
+				jobList.clear();
+				int size = runList.size();
+				for (int i = 0; i < size; i += RunMergeCursor.MAX_MERGE_COUNT) {
+					int end = Math.min(i + RunMergeCursor.MAX_MERGE_COUNT, size);
+					RunFileWriter []runs = new RunFileWriter[end - i];
+					runList.subList(i, end).toArray(runs);
+					SortxJob job = new SortxJob(runs, isNullMin);
+					jobList.add(job);
+					pool.submit(job);
+				}
+				
+				runList.clear();
+				for (SortxJob job : jobList) {
+					try {
+						job.join();
+					} catch (RuntimeException e) {
+						if (exception == null) {
+							exception = e;
+						}
+					}
+					
+					if (job.getResult() != null) {
+						runList.add(job.getResult());
+					}
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+		
+		// 有异常发生时删除临时文件
+		if (exception != null) {
+			for (RunFileWriter run : runList) {
+				run.getFile().delete();
+			}
+			
+			throw exception;
+		}
+		
+		int size = runList.size();
+		if (size == 0) {
+			return new MemoryCursor(null);
+		} else {
+			RunFileWriter []runs = new RunFileWriter[size];
+			runList.toArray(runs);
+			return new RunMergeCursor(runs, isNullMin, ctx);
+		}
+	}
+	
+	/**
+	 * 外存排序，排序字段值相同的记录组值相同且同序。
+	 * 组值相同的记录保存到一个临时文件，然后每个临时文件单独排序
+	 * @param cursor 游标
+	 * @param exps 排序表达式
+	 * @param gexp 组表达式
+	 * @param ctx 计算上下文
+	 * @param opt 选项
 	 * @return
 	 */
 	public static ICursor sortx(ICursor cursor, Expression[] exps, Expression gexp, Context ctx, String opt) {
@@ -1655,14 +1861,14 @@ public final class CursorUtil {
 			throw new RQException(mm.getMessage("engine.needPurePmt"));
 		}
 		
-		// ֵļӳÿһֵӦһļ
+		// 组值：集文件映射表，每一个组值对应一个集文件
 		TreeMap<Object, BFileWriter> map = new TreeMap<Object, BFileWriter>();
 		MessageManager mm = EngineMessage.get();
 		String msg = mm.getMessage("engine.createTmpFile");
 		
 		try {
 			while (true) {
-				// аʽ
+				// 对排列按组表达式分组
 				Sequence groups = seq.group(gexp, null, ctx);
 				int gcount = groups.length();
 				
@@ -1670,7 +1876,7 @@ public final class CursorUtil {
 					Sequence group = (Sequence)groups.getMem(i);
 					Object gval = group.calc(1, gexp, ctx);
 					
-					// ֵҵӦļļд
+					// 按组值找到相应的集文件并写出
 					BFileWriter writer = map.get(gval);
 					if (writer == null) {
 						FileObject fo = FileObject.createTempFileObject();
@@ -1683,7 +1889,7 @@ public final class CursorUtil {
 					writer.write(group);
 				}
 				
-				// ͷãԱ
+				// 释放引用，这样可以被垃圾回收
 				seq = null;
 				groups = null;
 				
@@ -1710,7 +1916,7 @@ public final class CursorUtil {
 		Collection<BFileWriter> writers = map.values();
 		Iterator<BFileWriter> itr = writers.iterator();
 		
-		// дɣرռļ
+		// 写完成，关闭集文件
 		while (itr.hasNext()) {
 			BFileWriter writer = itr.next();
 			writer.close();
@@ -1721,15 +1927,15 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * ùϣеĲ
-	 * @param seq1 
-	 * @param seq2 
-	 * @return 
+	 * 用哈希法计算两个序列的差集
+	 * @param seq1 序列
+	 * @param seq2 序列
+	 * @return 差集序列
 	 */
 	public static Sequence diff(Sequence seq1, Sequence seq2) {
 		int len2 = seq2.length();
 		
-		// 2ɹϣ
+		// 把序列2建成哈希表
 		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize();
 		HashUtil hashUtil = new HashUtil((int)(len2 * 1.2));
 		ListBase1 []groups = new ListBase1[hashUtil.getCapacity()];
@@ -1753,7 +1959,7 @@ public final class CursorUtil {
 		int len1 = seq1.length();
 		Sequence result = new Sequence(len1);
 		
-		// 1ԪأȻݹϣֵ2ĹϣвǷͬԪ
+		// 遍历序列1的元素，然后根据哈希值到序列2的哈希表中查找是否有相同的元素
 		for (int i = 1; i <= len1; ++i) {
 			Object val = seq1.getMem(i);
 			int hash = hashUtil.hashCode(val);
@@ -1773,12 +1979,12 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * ùϣжָʽĲ
-	 * @param seq1 
-	 * @param seq2 
-	 * @param exps ʽ
-	 * @param ctx 
-	 * @return 
+	 * 用哈希法计算两个排列对指定表达式的差集
+	 * @param seq1 序列
+	 * @param seq2 序列
+	 * @param exps 表达式数组
+	 * @param ctx 计算上下文
+	 * @return 差集序列
 	 */
 	public static Sequence diff(Sequence seq1, Sequence seq2, Expression []exps, Context ctx) {
 		if (exps == null) {
@@ -1788,7 +1994,7 @@ public final class CursorUtil {
 		int keyCount = exps.length;
 		int len2 = seq2.length();
 		
-		// 2ָʽļɹϣ
+		// 把序列2按指定表达式的计算结果建成哈希表
 		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize();
 		HashUtil hashUtil = new HashUtil((int)(len2 * 1.2));
 		ListBase1 []groups = new ListBase1[hashUtil.getCapacity()];
@@ -1829,7 +2035,7 @@ public final class CursorUtil {
 		stack.push(current);
 
 		try {
-			// 1ȻݱʽĹϣֵ2ĹϣвǷͬԪ
+			// 遍历序列1，然后根据表达式计算结果的哈希值到序列2的哈希表中查找是否有相同的元素
 			for (int i = 1; i <= len1; ++i) {
 				Object []keys = new Object[keyCount];
 				current.setCurrent(i);
@@ -1857,16 +2063,16 @@ public final class CursorUtil {
 	}
 
 	/**
-	 * ùϣеĲ
-	 * @param seq1 
-	 * @param seq2 
-	 * @return 
+	 * 用哈希法计算两个序列的并集
+	 * @param seq1 序列
+	 * @param seq2 序列
+	 * @return 并集序列
 	 */
 	public static Sequence union(Sequence seq1, Sequence seq2) {
 		IArray mems1 = seq1.getMems();
 		int len1 = mems1.size();
 		
-		// 2ɹϣ
+		// 把序列2建成哈希表
 		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize();
 		HashUtil hashUtil = new HashUtil((int)(len1 * 1.2));
 		ListBase1 []groups = new ListBase1[hashUtil.getCapacity()];
@@ -1892,7 +2098,7 @@ public final class CursorUtil {
 		Sequence result = new Sequence(len1 + len2);
 		result.addAll(seq1);
 		
-		// 1ԪأȻݹϣֵ2ĹϣвǷͬԪ
+		// 遍历序列1的元素，然后根据哈希值到序列2的哈希表中查找是否有相同的元素
 		for (int i = 1; i <= len2; ++i) {
 			Object val = mems2.get(i);
 			int hash = hashUtil.hashCode(val);
@@ -1912,12 +2118,12 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * ùϣжָʽĲ
-	 * @param seq1 
-	 * @param seq2 
-	 * @param exps ʽ
-	 * @param ctx 
-	 * @return 
+	 * 用哈希法计算两个排列对指定表达式的并集
+	 * @param seq1 序列
+	 * @param seq2 序列
+	 * @param exps 表达式数组
+	 * @param ctx 计算上下文
+	 * @return 并集序列
 	 */
 	public static Sequence union(Sequence seq1, Sequence seq2, Expression []exps, Context ctx) {
 		if (exps == null) {
@@ -1928,7 +2134,7 @@ public final class CursorUtil {
 		IArray mems1 = seq1.getMems();
 		int len1 = mems1.size();
 		
-		// 2ָʽļɹϣ
+		// 把序列2按指定表达式的计算结果建成哈希表
 		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize();
 		HashUtil hashUtil = new HashUtil((int)(len1 * 1.2));
 		ListBase1 []groups = new ListBase1[hashUtil.getCapacity()];
@@ -1971,7 +2177,7 @@ public final class CursorUtil {
 		stack.push(current);
 
 		try {
-			// 1ȻݱʽĹϣֵ2ĹϣвǷͬԪ
+			// 遍历序列1，然后根据表达式计算结果的哈希值到序列2的哈希表中查找是否有相同的元素
 			for (int i = 1; i <= len2; ++i) {
 				Object []keys = new Object[keyCount];
 				current.setCurrent(i);
@@ -1999,16 +2205,16 @@ public final class CursorUtil {
 	}
 
 	/**
-	 * ùϣеĽ
-	 * @param seq1 
-	 * @param seq2 
-	 * @return 
+	 * 用哈希法计算两个序列的交集
+	 * @param seq1 序列
+	 * @param seq2 序列
+	 * @return 交集序列
 	 */
 	public static Sequence isect(Sequence seq1, Sequence seq2) {
 		IArray mems2 = seq2.getMems();
 		int len2 = mems2.size();
 		
-		// 2ɹϣ
+		// 把序列2建成哈希表
 		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize();
 		HashUtil hashUtil = new HashUtil((int)(len2 * 1.2));
 		ListBase1 []groups = new ListBase1[hashUtil.getCapacity()];
@@ -2033,7 +2239,7 @@ public final class CursorUtil {
 		int len1 = mems1.size();
 		Sequence result = new Sequence(len1);
 		
-		// 1ԪأȻݹϣֵ2ĹϣвǷͬԪ
+		// 遍历序列1的元素，然后根据哈希值到序列2的哈希表中查找是否有相同的元素
 		for (int i = 1; i <= len1; ++i) {
 			Object val = mems1.get(i);
 			int hash = hashUtil.hashCode(val);
@@ -2050,12 +2256,12 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * ùϣжָʽĽ
-	 * @param seq1 
-	 * @param seq2 
-	 * @param exps ʽ
-	 * @param ctx 
-	 * @return 
+	 * 用哈希法计算两个排列对指定表达式的交集
+	 * @param seq1 序列
+	 * @param seq2 序列
+	 * @param exps 表达式数组
+	 * @param ctx 计算上下文
+	 * @return 交集序列
 	 */
 	public static Sequence isect(Sequence seq1, Sequence seq2, Expression []exps, Context ctx) {
 		if (exps == null) {
@@ -2066,7 +2272,7 @@ public final class CursorUtil {
 		IArray mems2 = seq2.getMems();
 		int len2 = mems2.size();
 		
-		// 2ָʽļɹϣ
+		// 把序列2按指定表达式的计算结果建成哈希表
 		final int INIT_GROUPSIZE = HashUtil.getInitGroupSize();
 		HashUtil hashUtil = new HashUtil((int)(len2 * 1.2));
 		ListBase1 []groups = new ListBase1[hashUtil.getCapacity()];
@@ -2108,7 +2314,7 @@ public final class CursorUtil {
 		stack.push(current);
 
 		try {
-			// 1ȻݱʽĹϣֵ2ĹϣвǷͬԪ
+			// 遍历序列1，然后根据表达式计算结果的哈希值到序列2的哈希表中查找是否有相同的元素
 			for (int i = 1; i <= len1; ++i) {
 				Object []keys = new Object[keyCount];
 				current.setCurrent(i);
@@ -2133,16 +2339,16 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * ȡcountʹexpֵСԪصgetExpֵ
-	 * @param cursor α
-	 * @param count 
-	 * @param exp Ƚϱʽ
-	 * @param getExp ֵʽ
-	 * @param ctx 
+	 * 取count个使exp返回值最小的元素的getExp返回值
+	 * @param cursor 游标
+	 * @param count 数量
+	 * @param exp 比较表达式
+	 * @param getExp 返回值表达式
+	 * @param ctx 计算上下文
 	 * @return Object
 	 */
 	public static Object top(ICursor cursor, int count, Expression exp, Expression getExp, Context ctx) {
-		// ʹöȡǰ
+		// 使用堆取前几名
 		ArrayComparator comparator = new ArrayComparator(1);
 		MinHeap heap = new MinHeap(count, comparator);
 		
@@ -2157,7 +2363,7 @@ public final class CursorUtil {
 				src = src.conj(null);
 			}
 			
-			// ֵֶӵС
+			// 计算排名字段值，并添加到小顶堆中
 			Sequence v = src.calc(exp, ctx);
 			for (int i = 1, len = src.length(); i <= len; ++i) {
 				Object []vals = new Object[2];
@@ -2167,7 +2373,7 @@ public final class CursorUtil {
 			}
 		}
 		
-		// Խ
+		// 对结果集做排序
 		Object []objs = heap.toArray();
 		Arrays.sort(objs, comparator);
 		
@@ -2182,10 +2388,10 @@ public final class CursorUtil {
 	}
 		
 	/**
-	 * еֵͬԪɵ
-	 * @param seq1 
-	 * @param seq2 
-	 * @return 
+	 * 返回两个序列的异或值，即不同的元素组成的序列
+	 * @param seq1 序列
+	 * @param seq2 序列
+	 * @return 异或序列
 	 */
 	public static Sequence xor(Sequence seq1, Sequence seq2) {
 		Sequence s1 = diff(seq1, seq2);
@@ -2195,22 +2401,22 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * Ȱgexpݽз飬ͬĻһдһʱļٶÿʱļжλ
-	 * ֶͬļ¼gexpҲҪͬgexpǷֶεĴ
-	 * @param cursor α
-	 * @param gexp ʽ
-	 * @param exps ʽ
-	 * @param names	ֶ
-	 * @param calcExps ܱʽ
-	 * @param calcNames	ֶ
-	 * @param opt ѡ
-	 * @param ctx 
-	 * @return α
+	 * 先按gexp对数据进行分组，同组的汇总一下写到一个临时文件，最后再对每个临时文件进行二次汇总
+	 * 分组字段相同的记录gexp也要相同，gexp是分组字段的大分组
+	 * @param cursor 游标
+	 * @param gexp 大分组表达式
+	 * @param exps 分组表达式数组
+	 * @param names	分组字段名数组
+	 * @param calcExps 汇总表达式数组
+	 * @param calcNames	汇总字段名数组
+	 * @param opt 选项
+	 * @param ctx 计算上下文
+	 * @return 分组结果游标
 	 */
 	public static ICursor groupx_g(ICursor cursor, Expression gexp, Expression[] exps, String []names,
 			   Expression[] calcExps, String []calcNames, String opt, Context ctx) {
 		if (cursor instanceof MultipathCursors) {
-			//  ·αö̷߳
+			//  多路游标采用多线程分组
 			return groupx_g((MultipathCursors)cursor, gexp, exps, names, calcExps, calcNames, ctx);
 		}
 		
@@ -2220,24 +2426,24 @@ public final class CursorUtil {
 		TreeMap<Object, BFileWriter> map = new TreeMap<Object, BFileWriter>();
 		
 		try {
-			// α
+			// 遍历游标数据
 			while (true) {
 				Sequence seq = cursor.fetch(fetchCount);
 				if (seq == null || seq.length() == 0) {
 					break;
 				}
 				
-				// ʽݽз
+				// 按大分组表达式对数据进行分组
 				Sequence groups = seq.group(gexp, null, ctx);
 				int gcount = groups.length();
 				for (int i = 1; i <= gcount; ++i) {
-					// ÿ״λ
+					// 对每个大分组进行首次汇总
 					Sequence group = (Sequence)groups.getMem(i);
 					IGroupsResult gresult = IGroupsResult.instance(exps, names, calcExps, calcNames, null, ctx);
 					gresult.push(group, ctx);
 					Table result = gresult.getTempResult();
 					
-					// ҵǰӦʱļ״λܽ׷ӵʱļ
+					// 找到当前大分组对应的临时文件并把首次汇总结果追加到临时文件中
 					Object gval = group.calc(1, gexp, ctx);
 					BFileWriter writer = map.get(gval);
 					if (writer == null) {
@@ -2252,7 +2458,7 @@ public final class CursorUtil {
 				}
 			}
 		} catch (IOException e) {
-			// 쳣ʱرղɾʱļ
+			// 有异常发生时关闭并删除临时文件
 			Collection<BFileWriter> writers = map.values();
 			Iterator<BFileWriter> itr = writers.iterator();
 			while (itr.hasNext()) {
@@ -2269,7 +2475,7 @@ public final class CursorUtil {
 			return null;
 		}
 		
-		// дɣرռļ		
+		// 写完成，关闭集文件		
 		FileObject []files = new FileObject[size];
 		int index = 0;
 		Collection<BFileWriter> writers = map.values();
@@ -2280,7 +2486,7 @@ public final class CursorUtil {
 			files[index++] = writer.getFile();
 		}
 		
-		// һÿʱļзα
+		// 生成一个按每个临时文件进行分组的游标
 		return new GroupxnCursor(files, exps, names, calcExps, calcNames, ctx);
 	}
 	
@@ -2291,7 +2497,7 @@ public final class CursorUtil {
 		int cursorCount = cursors.length;
 		TreeMap<Object, BFileWriter> map = new TreeMap<Object, BFileWriter>();
 		
-		// ɷύ̳߳
+		// 生成分组任务并提交给线程池
 		ThreadPool pool = ThreadPool.newInstance(cursorCount);
 		Exception exception = null;
 
@@ -2308,7 +2514,7 @@ public final class CursorUtil {
 				pool.submit(jobs[i]);
 			}
 	
-			// ȴִ
+			// 等待分组任务执行完毕
 			for (int i = 0; i < cursorCount; ++i) {
 				try {
 					jobs[i].join();
@@ -2320,7 +2526,7 @@ public final class CursorUtil {
 			pool.shutdown();
 		}
 		
-		// 쳣ʱرղɾʱļ
+		// 有异常发生时关闭并删除临时文件
 		if (exception != null) {
 			Collection<BFileWriter> writers = map.values();
 			Iterator<BFileWriter> itr = writers.iterator();
@@ -2342,7 +2548,7 @@ public final class CursorUtil {
 			return null;
 		}
 		
-		// дɣرռļ		
+		// 写完成，关闭集文件		
 		FileObject []files = new FileObject[size];
 		int index = 0;
 		Collection<BFileWriter> writers = map.values();
@@ -2353,20 +2559,20 @@ public final class CursorUtil {
 			files[index++] = writer.getFile();
 		}
 		
-		// һÿʱļзα
+		// 生成一个按每个临时文件进行分组的游标
 		return new GroupxnCursor(files, exps, names, calcExps, calcNames, ctx);
 	}
 
 	/**
-	 * еĵһֶΪ#1 / capacity + 1ֳ
-	 * @param seq 
-	 * @param capacity 
-	 * @return 
+	 * 排列的第一个字段为数，按照#1 / capacity + 1分成若干组
+	 * @param seq 排列
+	 * @param capacity 容量
+	 * @return 组序列
 	 */
 	public static Sequence group_n(Sequence seq, int capacity) {
 		IArray mems = seq.getMems();
 		int size = mems.size();
-		Sequence result = new Sequence(size / 4); // 
+		Sequence result = new Sequence(size / 4); // 分组后序列
 		IArray resultMems = result.getMems();
 		int len = 0;
 		BaseRecord r;
@@ -2401,20 +2607,20 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * ֵֶΪţѷֶΰcapacityйϣϣֵͬдͬһʱļٶÿʱļжλ
-	 * @param cursor α
-	 * @param exps ʽ
-	 * @param names	ֶ
-	 * @param calcExps ܱʽ
-	 * @param calcNames	ֶ
-	 * @param ctx 
-	 * @param capacity ڴܹŵķ
-	 * @return α
+	 * 分组字段值为组序号，把分组字段按capacity进行哈希，哈希值相同的写到同一个临时文件，最后再对每个临时文件进行二次汇总
+	 * @param cursor 游标
+	 * @param exps 分组表达式数组
+	 * @param names	分组字段名数组
+	 * @param calcExps 汇总表达式数组
+	 * @param calcNames	汇总字段名数组
+	 * @param ctx 计算上下文
+	 * @param capacity 内存能够存放的分组结果的数量
+	 * @return 分组结果游标
 	 */
 	public static ICursor groupx_n(ICursor cursor, Expression[] exps, String []names,
 			   Expression[] calcExps, String []calcNames, Context ctx, int capacity) {
 		if (cursor instanceof MultipathCursors) {
-			//  ·αö̷߳
+			//  多路游标采用多线程分组
 			return groupx_n((MultipathCursors)cursor, exps, names, calcExps, calcNames, ctx, capacity);
 		}
 		
@@ -2424,19 +2630,19 @@ public final class CursorUtil {
 		TreeMap<Object, BFileWriter> map = new TreeMap<Object, BFileWriter>();
 		
 		try {
-			// α
+			// 遍历游标数据
 			while (true) {
 				Sequence seq = cursor.fetch(fetchCount);
 				if (seq == null || seq.length() == 0) {
 					break;
 				}
 				
-				// Եǰݽ״λ
+				// 对当前数据进行首次汇总
 				IGroupsResult gresult = IGroupsResult.instance(exps, names, calcExps, calcNames, null, ctx);
 				gresult.push(seq, ctx);
 				seq = gresult.getTempResult();
 				
-				// ÿʱļӦôŵķ
+				// 算出每个临时文件应该存放的分组
 				Sequence groups = group_n(seq, capacity);
 				int gcount = groups.length();
 				for (int i = 1; i <= gcount; ++i) {
@@ -2445,7 +2651,7 @@ public final class CursorUtil {
 						continue;
 					}
 					
-					// ״ηдӦʱļ
+					// 把首次分组结果写到相应的临时文件
 					Integer gval = new Integer(i);
 					BFileWriter writer = map.get(gval);
 					if (writer == null) {
@@ -2461,7 +2667,7 @@ public final class CursorUtil {
 				}
 			}
 		} catch (IOException e) {
-			// 쳣ʱرղɾʱļ
+			// 有异常发生时关闭并删除临时文件
 			Collection<BFileWriter> writers = map.values();
 			Iterator<BFileWriter> itr = writers.iterator();
 			while (itr.hasNext()) {
@@ -2478,7 +2684,7 @@ public final class CursorUtil {
 			return null;
 		}
 		
-		// дɣرռļ		
+		// 写完成，关闭集文件		
 		FileObject []files = new FileObject[size];
 		int index = 0;
 		Collection<BFileWriter> writers = map.values();
@@ -2489,7 +2695,7 @@ public final class CursorUtil {
 			files[index++] = writer.getFile();
 		}
 		
-		// һÿʱļзα
+		// 生成一个按每个临时文件进行分组的游标
 		return new GroupxnCursor(files, exps, names, calcExps, calcNames, ctx);
 	}
 
@@ -2500,7 +2706,7 @@ public final class CursorUtil {
 		TreeMap<Object, BFileWriter> map = new TreeMap<Object, BFileWriter>();
 		int fetchCount = capacity / cursorCount;
 		
-		// ɷύ̳߳
+		// 生成分组任务并提交给线程池
 		ThreadPool pool = ThreadPool.newInstance(cursorCount);
 		Exception exception = null;
 
@@ -2516,7 +2722,7 @@ public final class CursorUtil {
 				pool.submit(jobs[i]);
 			}
 	
-			// ȴִ
+			// 等待分组任务执行完毕
 			for (int i = 0; i < cursorCount; ++i) {
 				try {
 					jobs[i].join();
@@ -2528,7 +2734,7 @@ public final class CursorUtil {
 			pool.shutdown();
 		}
 		
-		// 쳣ʱرղɾʱļ
+		// 有异常发生时关闭并删除临时文件
 		if (exception != null) {
 			Collection<BFileWriter> writers = map.values();
 			Iterator<BFileWriter> itr = writers.iterator();
@@ -2550,7 +2756,7 @@ public final class CursorUtil {
 			return null;
 		}
 		
-		// дɣرռļ		
+		// 写完成，关闭集文件		
 		FileObject []files = new FileObject[size];
 		int index = 0;
 		Collection<BFileWriter> writers = map.values();
@@ -2561,13 +2767,13 @@ public final class CursorUtil {
 			files[index++] = writer.getFile();
 		}
 		
-		// һÿʱļзα
+		// 生成一个按每个临时文件进行分组的游标
 		return new GroupxnCursor(files, exps, names, calcExps, calcNames, ctx);
 	}
 	
 	/**
-	 * ȡαӦȡ򷵻ؿ
-	 * @param cs α
+	 * 取游标对应的组表，如果取不到则返回空
+	 * @param cs 游标
 	 * @return TableMetaData
 	 */
 	public static PhyTable getTableMetaData(ICursor cs) {
@@ -2586,15 +2792,15 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * α갴ָʽ鲢α
-	 * @param cursors α
-	 * @param exps ʽ
-	 * @param opt ѡ
+	 * 对游标按指定表达式做归并生成新游标
+	 * @param cursors 游标数组
+	 * @param exps 表达式数组
+	 * @param opt 选项，
 	 * @param ctx
 	 * @return
 	 */
 	public static ICursor merge(ICursor []cursors, Expression []exps, String opt, Context ctx) {
-		// 㲢ҹ鲢ʽֶεĻŻ
+		// 如果是做连运算并且归并表达式是字段的话进行优化
 		DataStruct ds = null;
 		if (opt == null || (opt.indexOf('u') == -1 && opt.indexOf('i') == -1 && opt.indexOf('d') == -1 && opt.indexOf('x') == -1)) {
 			ds = CursorUtil.getDataStruct(cursors[0]);
@@ -2651,10 +2857,10 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * תα
-	 * @param data 
-	 * @param pathCount α·
-	 * @param opt pٶԵһֶ򣬷ֶʱὫһֶͬ¼ֵ
+	 * 把排列转成游标
+	 * @param data 排列
+	 * @param pathCount 游标的路数
+	 * @param opt p：假定对第一字段有序，分段时不会将第一字段相同记录分到两段
 	 * @param ctx
 	 * @return ICursor
 	 */
@@ -2685,7 +2891,7 @@ public final class CursorUtil {
 				}
 				
 				if (psign) {
-					// ֶʱὫһֶͬ¼ֵ
+					// 分段时不会将第一字段相同记录分到两段
 					Record record = (Record)data.get(end - 1);
 					Object value = record.getNormalFieldValue(0);
 					int next = end;
@@ -2711,11 +2917,11 @@ public final class CursorUtil {
 	}
 	
 	/**
-	 * תɶ·α꣬ȡָ·
-	 * @param data 
-	 * @param path Ҫȡ·
-	 * @param pathCount α·
-	 * @param opt pٶԵһֶ򣬷ֶʱὫһֶͬ¼ֵ
+	 * 把排列转成多路游标，取出指定的路
+	 * @param data 排列
+	 * @param path 要取的路
+	 * @param pathCount 游标的路数
+	 * @param opt p：假定对第一字段有序，分段时不会将第一字段相同记录分到两段
 	 * @param ctx
 	 * @return ICursor
 	 */
@@ -2759,7 +2965,7 @@ public final class CursorUtil {
 					break;
 				}
 				
-				// ֶʱὫһֶͬ¼ֵ
+				// 分段时不会将第一字段相同记录分到两段
 				Record record = (Record)data.get(end - 1);
 				Object value = record.getNormalFieldValue(0);
 				int next = end;
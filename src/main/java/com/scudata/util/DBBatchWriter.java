@@ -0,0 +1,233 @@
+package com.scudata.util;
+
+import java.sql.PreparedStatement;
+
+import com.scudata.common.DBSession;
+import com.scudata.common.Logger;
+import com.scudata.thread.Job;
+import com.scudata.thread.ThreadPool;
+
+/**
+ * 流水线方式的数据库批量写，调用者读游标、计算参数值的同时，上一批数据在写线程里执行
+ * 每个PreparedStatement一个写线程，有多个时各批数据轮流交给它们执行
+ * 批大小根据每批执行的耗时调整，执行快时增大批次以减少来回次数，执行慢时减小批次
+ * @author RunQian
+ *
+ */
+class DBBatchWriter {
+	private static final long MIN_TIME = 50; // 每批执行时间低于此值时增大批次，毫秒
+	private static final long MAX_TIME = 500; // 每批执行时间高于此值时减小批次，毫秒
+	private static final int MAX_TIMES = 16; // 批大小最多增大到初始值的倍数
+
+	private byte []types; // 参数类型
+	private DBSession dbs; // 数据库连接，记录错误状态用
+	private String dbCharset; // 数据库编码
+	private boolean tranSQL; // 是否需要转码
+	private int dbType; // 数据库类型
+	private String name; // 数据库名称
+
+	private BatchJob []jobs; // 每个PreparedStatement对应的写任务
+	private ThreadPool threadPool;
+	private int next; // 下一批数据交给哪个写任务
+
+	private int minSize; // 批大小的下限
+	private int maxSize; // 批大小的上限
+	private volatile int batchSize; // 当前的批大小
+
+	private long batchCount; // 已执行的批数
+	private long rowCount; // 已写出的行数
+	private long totalTime; // 执行批的总耗时，毫秒
+	private long maxTime; // 执行一批的最长耗时，毫秒
+
+	// 在写线程里执行一批数据
+	private class BatchJob extends Job {
+		private PreparedStatement pst;
+		private Object [][]valueGroup;
+		private boolean isSubmitted; // 是否提交过还没有join
+
+		public BatchJob(PreparedStatement pst) {
+			this.pst = pst;
+		}
+
+		public void run() {
+			Object [][]valueGroup = this.valueGroup;
+			this.valueGroup = null;
+			long start = System.currentTimeMillis();
+			DatabaseUtil.executeBatch(pst, valueGroup, types, dbs, dbCharset, tranSQL, dbType, name, true);
+			done(valueGroup.length, System.currentTimeMillis() - start);
+		}
+	}
+
+	/**
+	 * 创建批量写对象
+	 * @param psts 要执行的PreparedStatement，每个使用不同的数据库连接
+	 * @param types 参数类型
+	 * @param dbs 数据库连接，记录错误状态用
+	 * @param dbCharset 数据库编码
+	 * @param tranSQL 是否需要转码
+	 * @param dbType 数据库类型
+	 * @param name 数据库名称，用于错误提示
+	 * @param batchSize 初始的批大小，小于等于1时不调整
+	 */
+	public DBBatchWriter(PreparedStatement []psts, byte []types, DBSession dbs, String dbCharset,
+			boolean tranSQL, int dbType, String name, int batchSize) {
+		this.types = types;
+		this.dbs = dbs;
+		this.dbCharset = dbCharset;
+		this.tranSQL = tranSQL;
+		this.dbType = dbType;
+		this.name = name;
+
+		if (batchSize <= 1) {
+			batchSize = 1;
+			minSize = 1;
+			maxSize = 1;
+		} else {
+			minSize = batchSize / 8 > 1 ? batchSize / 8 : 1;
+			maxSize = batchSize * MAX_TIMES;
+		}
+
+		this.batchSize = batchSize;
+		int count = psts.length;
+		jobs = new BatchJob[count];
+		for (int i = 0; i < count; ++i) {
+			jobs[i] = new BatchJob(psts[i]);
+		}
+
+		threadPool = ThreadPool.newSpecifiedInstance(count);
+	}
+
+	/**
+	 * 取下一批要读的数据量
+	 * @return int
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 提交一批参数值执行，有空闲的写线程时立即返回，否则等最早提交的一批执行完
+	 * 之前提交的批出错时先提交本批再抛出异常，调用者捕获异常后继续写时不会丢掉本批
+	 * @param valueGroup 每行的参数值
+	 */
+	public void write(Object [][]valueGroup) {
+		BatchJob job = jobs[next];
+		next = (next + 1) % jobs.length;
+		RuntimeException error = null;
+		if (job.isSubmitted) {
+			job.isSubmitted = false;
+			try {
+				job.join();
+			} catch (RuntimeException e) {
+				error = e;
+			}
+		}
+
+		job.valueGroup = valueGroup;
+		job.isSubmitted = true;
+		threadPool.submit(job);
+
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	/**
+	 * 等待所有批执行完，出错时抛出异常，结束后关闭写线程
+	 */
+	public void finish() {
+		try {
+			for (BatchJob job : jobs) {
+				if (job.isSubmitted) {
+					job.isSubmitted = false;
+					job.join();
+				}
+			}
+		} finally {
+			close();
+		}
+
+		Logger.debug(name + " batch write: " + batchCount + " batches, " + rowCount + " rows, " +
+				totalTime + "ms total, " + maxTime + "ms max");
+	}
+
+	/**
+	 * 结束写线程，不抛出执行时的异常，用于出错后的清理
+	 */
+	public void close() {
+		if (threadPool == null) {
+			return;
+		}
+
+		for (BatchJob job : jobs) {
+			if (job.isSubmitted) {
+				job.isSubmitted = false;
+				try {
+					job.join();
+				} catch (RuntimeException e) {
+				}
+			}
+		}
+
+		threadPool.shutdown();
+		threadPool = null;
+	}
+
+	// 记录一批的耗时并调整批大小
+	private synchronized void done(int rows, long time) {
+		batchCount++;
+		rowCount += rows;
+		totalTime += time;
+		if (time > maxTime) {
+			maxTime = time;
+		}
+
+		Logger.debug(name + " batch " + batchCount + ": " + rows + " rows, " + time + "ms");
+
+		// 只根据满批的耗时调整，最后一批可能不满
+		int size = batchSize;
+		if (rows < size) {
+			return;
+		}
+
+		if (time < MIN_TIME && size < maxSize) {
+			size *= 2;
+			batchSize = size < maxSize ? size : maxSize;
+		} else if (time > MAX_TIME && size > minSize) {
+			size /= 2;
+			batchSize = size > minSize ? size : minSize;
+		}
+	}
+
+	/**
+	 * 取已执行的批数
+	 * @return long
+	 */
+	public synchronized long getBatchCount() {
+		return batchCount;
+	}
+
+	/**
+	 * 取已写出的行数
+	 * @return long
+	 */
+	public synchronized long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * 取执行批的总耗时
+	 * @return 毫秒
+	 */
+	public synchronized long getTotalTime() {
+		return totalTime;
+	}
+
+	/**
+	 * 取执行一批的最长耗时
+	 * @return 毫秒
+	 */
+	public synchronized long getMaxTime() {
+		return maxTime;
+	}
+}
@@ -29,8 +29,8 @@ public class DatabaseUtil {
 	public static int TYPE_ORACLE_DATE = 2;
 	public static int TYPE_SYBASE_TIMESTAMP = 3;
 
-	// added by bdl, 洢УġģʽֱΪ
-	// α꣬ҪáڷαֵָƵĲ
+	// added by bdl, 存储过程中，参数的“模式”，分别为输入参数，输出参数和输入输出参数
+	// 对于游标，需要设置“输出参数”，而对于非游标的输出参数或者输入输出参数，将把值输出到指定名称的参数
 	public static byte PROC_MODE_IN = (byte) 1;
 	public static byte PROC_MODE_OUT = (byte) 2;
 	public static byte PROC_MODE_INOUT = (byte) 3;
@@ -39,14 +39,14 @@ public class DatabaseUtil {
 	private static Class<?> oracleDATE = null;
 	private static Class<?> sybaseTIMESTAMP = null;
 	
-	private static final byte Col_AutoIncrement = 0x01; // Զ, moved from DataStruct by bd, 2017.1.13
+	private static final byte Col_AutoIncrement = 0x01; // 列自动增长属性, moved from DataStruct by bd, 2017.1.13
 
 	/**
-	 * ָݿִsql䣬ؽɵ
-	 * @param sql	String sql
-	 * @param params	Object[] ֵб
-	 * @param types	byte[] бɿգͲμcom.scudata.common.Typesַ
-	 * 						ͿʱΪͬڡĬϡͣʱעֵΪnull
+	 * 对指定的数据库连接执行sql语句，返回结果构成的序列
+	 * @param sql	String sql语句
+	 * @param params	Object[] 参数值列表
+	 * @param types	byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组如字符串组等类型
+	 * 						当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
 	 * @param dbs	DBSession
 	 * @return Sequence
 	 */
@@ -334,15 +334,15 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ָݿִsql䣬ؽеĵһ¼
+	 * 对指定的数据库连接执行sql语句，返回结果集中的第一条记录
 	 * 
 	 * @param sql
-	 *            String sql
+	 *            String sql语句
 	 * @param params
-	 *            Object[] ֵб
+	 *            Object[] 参数值列表
 	 * @param types
-	 *            byte[] бɿգͲμcom.scudata.common.Typesַ
-	 *            ͿʱΪͬڡĬϡͣʱעֵΪnull
+	 *            byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组如字符串组等类型
+	 *            当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
 	 * @param dbs
 	 *            DBSession
 	 * @return Sequence
@@ -536,13 +536,13 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ָݿִsql䣬ؽ
-	 * @param sql	String sql
-	 * @param params	Object[] ֵб
+	 * 对指定的数据库连接执行sql语句，不返回结果集
+	 * @param sql	String sql语句
+	 * @param params	Object[] 参数值列表
 	 * @param types	byte[]
-	 * @param dbs	DBSession  edited by bdl, 2012.9.21, @sѡ趨֮ʹù̻sql
-	 * @param opt	String ѡ edited by bdl, 2012.9.18, ӷֵ
-	 * @return н ䷵IntegerͨsqlBoolean
+	 * @param dbs	DBSession 上下文 edited by bdl, 2012.9.21, 添加@s选项，设定之后使用固化sql
+	 * @param opt	String 选项 edited by bdl, 2012.9.18, 增加返回值
+	 * @return 运行结果 更新语句返回Integer，普通sql返回Boolean
 	 */
 	private static Object runSQL(String sql, Object[] params, byte[] types, DBSession dbs, boolean isupdate,
 			String opt) {
@@ -789,16 +789,16 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * added by bdl, 2008.11.17е ָĲִָPreparedStatementؽ
+	 * added by bdl, 2008.11.17，不处理参数中的数组 以指定的参数执行指定的PreparedStatement，不返回结果集
 	 * @param pst	PreparedStatement
-	 * @param params	Object[]	
-	 * @param types	byte[]	
-	 * @param dbCharset	String	ݿַ
-	 * @param toCharset	String	նַ
-	 * @param tranSQL	boolean	SQLǷת
-	 * @param tranContent	boolean	ַǷת
-	 * @param dbType	int ֵ
-	 * @return Ƿɹ Boolean
+	 * @param params	Object[]	参数
+	 * @param types	byte[]	参数类型
+	 * @param dbCharset	String	数据库字符集
+	 * @param toCharset	String	终端字符集
+	 * @param tranSQL	boolean	SQL是否需转码
+	 * @param tranContent	boolean	内容字符是否需转码
+	 * @param dbType	int 返回值
+	 * @return 是否成功 Boolean
 	 */
 	private static Boolean runSQL2(PreparedStatement pst, Object[] params, byte[] types, String dbCharset,
 			boolean tranSQL, int dbType, String dsName, DBSession dbs) {
@@ -866,7 +866,7 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * е ָĲִָPreparedStatementؽ
+	 * 不处理参数中的数组 以指定的参数执行指定的PreparedStatement，不返回结果集
 	 * 
 	 * @param pst
 	 *            PreparedStatement
@@ -940,10 +940,10 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ȡݼrsÿһɼ¼з
+	 * 取出结果数据集rs的每一行数据生成记录，构成排列返回
 	 * 
 	 * @param rs
-	 *            ResultSet ݼ
+	 *            ResultSet 结果数据集
 	 * @param dbCharset
 	 *            String
 	 * @param needTranContent
@@ -951,11 +951,11 @@ public class DatabaseUtil {
 	 * @param toCharset
 	 *            String
 	 * @param dbType
-	 *            int DBTypesж
+	 *            int DBTypes中定义的类型
 	 * @param addTable
-	 *            boolean Ƿֶӱadded by bdl, 2010.9.9
+	 *            boolean 是否在字段名中添加表名，added by bdl, 2010.9.9
 	 * @param recordLimit
-	 *            added by bdl, 2012.2.27, ¼
+	 *            added by bdl, 2012.2.27, 返回最大记录数
 	 * @throws SQLException
 	 * @throws UnsupportedEncodingException
 	 * @return Sequence
@@ -1047,10 +1047,10 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ȡݼrsÿһɼ¼зأqueryGroupУִsqlصݽṹͬ
+	 * 取出结果数据集rs的每一行数据生成记录，构成排列返回，本方法用于queryGroup中，多次执行sql返回的数据结构相同
 	 * 
 	 * @param rs
-	 *            ResultSet ݼ
+	 *            ResultSet 结果数据集
 	 * @param dbCharset
 	 *            String
 	 * @param needTranContent
@@ -1058,11 +1058,11 @@ public class DatabaseUtil {
 	 * @param toCharset
 	 *            String
 	 * @param dbType
-	 *            int DBTypesж
+	 *            int DBTypes中定义的类型
 	 * @param ctx
-	 *            Context 
+	 *            Context 上下文
 	 * @param ds
-	 *            DataStruct ݽṹһִʱ
+	 *            DataStruct 数据结构，第一次执行时计算
 	 * @throws SQLException
 	 * @throws UnsupportedEncodingException
 	 * @return Sequence
@@ -1118,10 +1118,10 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ȡݼrsĵһɼ¼
+	 * 取出结果数据集rs的第一条数据生成记录返回
 	 * 
 	 * @param rs
-	 *            ResultSet ݼ
+	 *            ResultSet 结果数据集
 	 * @param dbCharset
 	 *            String
 	 * @param needTranContent
@@ -1129,7 +1129,7 @@ public class DatabaseUtil {
 	 * @param toCharset
 	 *            String
 	 * @param dbType
-	 *            int DBTypesж
+	 *            int DBTypes中定义的类型
 	 * @throws SQLException
 	 * @throws UnsupportedEncodingException
 	 * @return Sequence
@@ -1185,26 +1185,26 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * dbNameִsql
-	 * @param sql	String sql
-	 * @param params	Object[] бɿ
-	 * @param types	byte[] бɿգͲμcom.scudata.common.Typesַ
-	 *            			ͿʱΪͬڡĬϡͣʱעֵΪnull
-	 * @param dbs	DBSession edited by bdl, 2012.9.18, ӷֵ
-	 * @return	н ䷵IntegerͨsqlBoolean
+	 * 在dbName中执行sql语句
+	 * @param sql	String sql语句
+	 * @param params	Object[] 参数列表，可空
+	 * @param types	byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组如字符串组等类型
+	 *            			当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
+	 * @param dbs	DBSession edited by bdl, 2012.9.18, 增加返回值
+	 * @return	运行结果 更新语句返回Integer，普通sql返回Boolean
 	 */
 	public static Object execute(String sql, Object[] params, byte[] types, DBSession dbs, String opt) {
 		return runSQL(sql, params, types, dbs, false, opt);
 	}
 
 	/**
-	 * dbNameִsql䣬öִͬһSQL䣬ΪЧʣִʱȥûе?Ҫв
-	 * @param sql	String sql
-	 * @param params	Object[][] ббɿ
-	 * @param types	byte[] бɿգͲμcom.scudata.common.Typesַ
-	 *            			ͿʱΪͬڡĬϡͣʱעֵΪnull
+	 * 在dbName中执行sql语句，用多组参数执行同一SQL语句，为提高效率，在执行时不去置换语句中的?，这样就要求参数中不能有数组
+	 * @param sql	String sql语句
+	 * @param params	Object[][] 参数列表的列表，可空
+	 * @param types	byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组如字符串组等类型
+	 *            			当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
 	 * @param dbs	DBSession
-	 * @param interrupt	boolean Ƿж
+	 * @param interrupt	boolean 是否中断
 	 */
 	public static void execute2old(String sql, Object[][] paramsGroup, byte[] types, DBSession dbs, boolean interrupt) {
 		PreparedStatement pst = null;
@@ -1295,13 +1295,13 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * dbNameִsql䣬öִͬһSQL䣬ΪЧʣִʱȥûе?Ҫв
-	 * @param sql	String sql
-	 * @param params	Object[][] ббɿ
-	 * @param types	byte[] бɿգͲμcom.scudata.common.Typesַ
-	 *            			ͿʱΪͬڡĬϡͣʱעֵΪnull
+	 * 在dbName中执行sql语句，用多组参数执行同一SQL语句，为提高效率，在执行时不去置换语句中的?，这样就要求参数中不能有数组
+	 * @param sql	String sql语句
+	 * @param params	Object[][] 参数列表的列表，可空
+	 * @param types	byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组如字符串组等类型
+	 *            			当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
 	 * @param dbs	DBSession
-	 * @param interrupt	boolean Ƿж
+	 * @param interrupt	boolean 是否中断
 	 */
 	public static void execute2(String sql, Object[][] paramsGroup, byte[] types, DBSession dbs, boolean interrupt) {
 		PreparedStatement pst = null;
@@ -1432,32 +1432,32 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * dbNameִsql䣬öִͬһSQL䣬ΪЧʣ ִʱȥûе?Ҫв
-	 * һЩݿϢϲãͬʱsqlҪѾֶת
+	 * 在dbName中执行sql语句，用多组参数执行同一SQL语句，为提高效率， 在执行时不去置换语句中的?，这样就要求参数中不能有数组
+	 * 这里一些数据库信息由上层获得，同时sql要求已经处理过所需的字段名转码
 	 * 
 	 * @param sql
-	 *            String sql
+	 *            String sql语句
 	 * @param paramsGroup
-	 *            Object[][] ббɿ
+	 *            Object[][] 参数列表的列表，可空
 	 * @param types
-	 *            byte[] бɿգͲμcom.scudata.common.Types
-	 *            ַ͡ͿʱΪͬڡĬϡͣʱעֵΪnull
+	 *            byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组
+	 *            如字符串组等类型。当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
 	 * @param dbs
-	 *            DBSession ݿϢ¼״̬
+	 *            DBSession 数据库信息，记录错误状态用
 	 * @param con
-	 *            Connection ݿӶ
+	 *            Connection 数据库连接对象
 	 * @param dbCharset
-	 *            ݿ룬ڽַת
+	 *            数据库编码，用于将字符串参数转码
 	 * @param tranSQL
-	 *            ǷҪת룬ֻΪtrueʱ
+	 *            是否需要转码，只有为true时处理
 	 * @param dbType
-	 *            ݿͣĳЩݿ趨ʱҪ
+	 *            数据库类型，对于某些数据库在设定参数时可能需要特殊调整
 	 * @param dbn
-	 *            ݿƣڴʾ
+	 *            数据库名称，用于错误提示
 	 * @param batchSize
-	 *            int ֵϲ
+	 *            int 批处理阈值，从上层获得
 	 * @param interrupt
-	 *            Ƿڳʱж
+	 *            是否在出错时中断
 	 */
 	private static void executeBatch(String sql, Object[][] paramsGroup, byte[] types, DBSession dbs, Connection con,
 			String dbCharset, boolean tranSQL, int dbType, String dbn, int batchSize, boolean interrupt) {
@@ -1536,21 +1536,21 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * öִͬһpstΪЧʣִʱȥûе?Ҫв ɺִһexecuteBatchpstر
+	 * 用多组参数执行同一pst，为提高效率，在执行时不去置换语句中的?，这样就要求参数中不能有数组 完成后执行一次executeBatch，pst不关闭
 	 * 
 	 * @param pst
 	 *            PreparedStatement pst
 	 * @param params
-	 *            Object[][] ббɿ
+	 *            Object[][] 参数列表的列表，可空
 	 * @param types
-	 *            byte[] бɿգͲμcom.scudata.common.Typesַ
-	 *            ͿʱΪͬڡĬϡͣʱעֵΪnull
+	 *            byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组如字符串组等类型
+	 *            当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
 	 * @param dbs
 	 *            DBSession
 	 * @param interrupt
-	 *            boolean Ƿж
+	 *            boolean 是否中断
 	 */
-	private static void executeBatch(PreparedStatement pst, Object[][] paramsGroup, byte[] types, DBSession dbs,
+	static void executeBatch(PreparedStatement pst, Object[][] paramsGroup, byte[] types, DBSession dbs,
 			String dbCharset, boolean tranSQL, int dbType, String name, boolean interrupt) {
 		try {
 			int count = paramsGroup.length;
@@ -1566,7 +1566,7 @@ public class DatabaseUtil {
 				}
 			}
 			try {
-				// edited by bdl, 2014.7.8 쳣DBSession趨@kʱܲ׳
+				// edited by bdl, 2014.7.8 异常根据DBSession的设定，@k时可能不抛出
 				pst.executeBatch();
 				pst.clearBatch();
 			} catch (SQLException e) {
@@ -1592,16 +1592,16 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * dbNameִsql
-	 * @param sql	String sql
-	 * @param params	Object[] бɿ
-	 * @param types	byte[] бɿգͲμcom.scudata.common.Typesַ
-	 *           			 ͿʱΪͬڡĬϡͣʱעֵΪnull
+	 * 在dbName中执行sql语句
+	 * @param sql	String sql语句
+	 * @param params	Object[] 参数列表，可空
+	 * @param types	byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组如字符串组等类型
+	 *           			 当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
 	 * @param dbs	DBSession
 	 * @return Sequence
 	 */
 	public static Sequence query(String sql, Object[] params, byte[] types, DBSession dbs, String opt) {
-		// edited by bdl, 2015.7.28, ֧@iѡʱ
+		// edited by bdl, 2015.7.28, 支持@i选项，单列时返回序列
 		Table tbl = retrieve(sql, params, types, dbs, opt, -1);
 		if (tbl != null && tbl.dataStruct().getFieldCount() == 1 && opt != null && opt.indexOf('i') != -1) {
 			return tbl.fieldValues(0);
@@ -1611,32 +1611,32 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * dbNameִsql䣬
-	 * @param sql	String sql
-	 * @param params	Object[] б * @param types byte[] ָͣΪʱ
+	 * 在dbName中执行sql语句，返回序表
+	 * @param sql	String sql语句
+	 * @param params	Object[] 参数列表 * @param types byte[] 参数类型，当指定参数为空时有意义
 	 * @param dbs	DBSession
-	 * @param opt	String ѡ
-	 * @param ctx	Context Ļ
-	 * @return Table ýɵ
+	 * @param opt	String 选项
+	 * @param ctx	Context 上下文环境
+	 * @return Table 返回用结果集生成的序表
 	 */
 	public static Sequence query(String sql, Object[] params, byte[] types, DBSession dbs, String opt, Context ctx) {
 		return query(sql, params, types, dbs, opt, -1, ctx);
 	}
 
 	/**
-	 * added by bdl, 2012.2.27 dbNameִsql䣬
-	 * @param sql	String sql
-	 * @param params	Object[] б
-	 * @param types	byte[] ָͣΪʱ
+	 * added by bdl, 2012.2.27 在dbName中执行sql语句，返回序表
+	 * @param sql	String sql语句
+	 * @param params	Object[] 参数列表
+	 * @param types	byte[] 参数类型，当指定参数为空时有意义
 	 * @param dbs	DBSession
-	 * @param opt	String ѡ
+	 * @param opt	String 选项
 	 * @param recordLimit	int
-	 * @param ctx	Context Ļ
-	 * @return Table	ýɵ
+	 * @param ctx	Context 上下文环境
+	 * @return Table	返回用结果集生成的序表
 	 */
 	public static Sequence query(String sql, Object[] params, byte[] types, DBSession dbs, String opt, int recordLimit,
 			Context ctx) {
-		// edited by bdl, 2015.7.28, ֧@iѡʱ
+		// edited by bdl, 2015.7.28, 支持@i选项，单列时返回序列
 		Table tbl = retrieve(sql, params, types, dbs, opt, recordLimit);
 		if (tbl != null && tbl.dataStruct().getFieldCount() == 1 && opt != null && opt.indexOf('i') != -1) {
 			return tbl.fieldValues(0);
@@ -1646,11 +1646,11 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * Զִͬһsql䣬ؽеУadded by bdl, 2009.1.8
-	 * @param sql	String sql
-	 * @param params	Object[][] бɿգΪ򷵻nullбеĲ飬пܻ
-	 * @param types	byte[] бɿգͲμcom.scudata.common.Typesַ
-	 *            			ͿʱΪͬڡĬϡͣʱעֵΪnull
+	 * 以多组参数来执行同一sql语句，返回结果序列的序列，added by bdl, 2009.1.8
+	 * @param sql	String sql语句
+	 * @param params	Object[][] 参数列表，不可空，若为空则返回null，参数列表中的参数不允许是数组，否则有可能会出错
+	 * @param types	byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组如字符串组等类型
+	 *            			当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
 	 * @param dbs	DBSession
 	 * @return Sequence
 	 */
@@ -1798,7 +1798,7 @@ public class DatabaseUtil {
 						int colCount = rsmd.getColumnCount();
 						int[] colTypes = new int[colCount];
 						String[] colNames = new String[colCount];
-						// added by bdl, 2012.10.18, ֶת
+						// added by bdl, 2012.10.18, 表名和字段名的转码
 						for (int c = 1; c <= colCount; ++c) {
 							colNames[c - 1] = tranName(rsmd.getColumnLabel(c), tranContent, dbCharset, toCharset, bb, opt);
 							colTypes[c - 1] = rsmd.getColumnType(c);
@@ -1840,11 +1840,11 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ݶҼ¼з
-	 * @param tableName	String /ͼ
-	 * @param fields	String[] ѯֶ
-	 * @param keyNames	String[] 
-	 * @param keyValues	Object[][] ¼ֵɵ
+	 * 根据多主键查找记录构成序列返回
+	 * @param tableName	String 表/视图名
+	 * @param fields	String[] 待查询的字段
+	 * @param keyNames	String[] 主键名
+	 * @param keyValues	Object[][] 多记录的主键值构成的数组
 	 * @param dbs	DBSession
 	 * @return BaseRecord
 	 */
@@ -1916,11 +1916,11 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * Ҽ¼ֶָ
+	 * 根据主键查找记录返回指定字段
 	 * @param tableName	String
-	 * @param fields	String[] ѯֶ
-	 * @param keyNames	String[] 
-	 * @param keyValues	Object[]ֵ
+	 * @param fields	String[] 待查询的字段
+	 * @param keyNames	String[] 主键名
+	 * @param keyValues	Object[]主键值
 	 * @param dbs	DBSession
 	 * @return BaseRecord
 	 */
@@ -1983,10 +1983,10 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * Ҽ¼ֶ
-	 * @param tableName	String 
-	 * @param keyNames	String[] 
-	 * @param keyValues	Object[]ֵ
+	 * 根据主键查找记录返回所有字段
+	 * @param tableName	String 表名
+	 * @param keyNames	String[] 主键名
+	 * @param keyValues	Object[]主键值
 	 * @param dbs	DBSession
 	 * @return BaseRecord
 	 */
@@ -1997,10 +1997,10 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ݶҶ¼ֶ
-	 * @param tableName	String 
-	 * @param keyNames	String[] 
-	 * @param keyValues	Object[][] ¼ֵɵ
+	 * 根据多组主键查找多记录返回所有字段
+	 * @param tableName	String 表名
+	 * @param keyNames	String[] 主键名
+	 * @param keyValues	Object[][] 多记录的主键值构成的数组
 	 * @param dbs	DBSession
 	 * @return Sequence
 	 */
@@ -2010,11 +2010,11 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * updateinsert
-	 * @param tableName	String /ͼ
-	 * @param keyValues	Object[] ֵ
-	 * @param fields	String[] Ҫµֶ
-	 * @param values	Object[] Ҫµֵֶ
+	 * 根据主键生成update或insert语句更新数据
+	 * @param tableName	String 表/视图名
+	 * @param keyValues	Object[] 主键值
+	 * @param fields	String[] 要更新的字段名
+	 * @param values	Object[] 要更新的字段值
 	 * @param dbs	DBSession
 	 */
 	public static void update(String tableName, Object[] keyValues, String[] fields, Object[] values, DBSession dbs) {
@@ -2022,14 +2022,14 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * updateinsert
-	 * @param tableName	String /ͼ
-	 * @param keyValues	Object[] ֵ
-	 * @param fields	String[] Ҫµֶ
-	 * @param values	Object[] Ҫµֵֶ
-	 * @param opt	String u: ֻUPDATE, i: ֻINSERT
-	 * @param dbs	DBSession edited by bdl, 2012.9.18, ӷֵ
-	 * @return	н ䷵IntegerͨsqlBoolean
+	 * 根据主键生成update或insert语句更新数据
+	 * @param tableName	String 表/视图名
+	 * @param keyValues	Object[] 主键值
+	 * @param fields	String[] 要更新的字段名
+	 * @param values	Object[] 要更新的字段值
+	 * @param opt	String u: 只生成UPDATE, i: 只生成INSERT
+	 * @param dbs	DBSession edited by bdl, 2012.9.18, 增加返回值
+	 * @return	运行结果 更新语句返回Integer，普通sql返回Boolean
 	 */
 	public static Object update(String tableName, Object[] keyValues, String[] fields, Object[] values, String opt,
 			DBSession dbs) {
@@ -2248,15 +2248,15 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ת
-	 * @param type	
-	 * @param dbType	ݿ
-	 * @param rs	
-	 * @param index	
-	 * @param needTranContent	ǷҪתַ
-	 * @param dbCharset	ݿַ
-	 * @param toCharset	նַ
-	 * @param bb	ַǷһ
+	 * 结果集数据转换
+	 * @param type	数据类型
+	 * @param dbType	数据库类型
+	 * @param rs	结果集
+	 * @param index	数据序号
+	 * @param needTranContent	是否需要转换字符
+	 * @param dbCharset	数据库字符集
+	 * @param toCharset	终端字符集
+	 * @param bb	字符集是否一致
 	 * @return
 	 * @throws Exception
 	 */
@@ -2266,16 +2266,16 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ת
-	 * @param type	
-	 * @param dbType	ݿ
-	 * @param rs	
-	 * @param index	
-	 * @param needTranContent	ǷҪתַ
-	 * @param dbCharset	ݿַ
-	 * @param toCharset	նַ
-	 * @param bb	ַǷһ
-	 * @param opt	ѡ
+	 * 结果集数据转换
+	 * @param type	数据类型
+	 * @param dbType	数据库类型
+	 * @param rs	结果集
+	 * @param index	数据序号
+	 * @param needTranContent	是否需要转换字符
+	 * @param dbCharset	数据库字符集
+	 * @param toCharset	终端字符集
+	 * @param bb	字符集是否一致
+	 * @param opt	函数选项
 	 * @return
 	 * @throws Exception
 	 */
@@ -2479,25 +2479,25 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * SQLݿиֵѯstrؽ
-	 * @param tableName	String 
-	 * @param str	String sqlʽ
-	 * @param keyValues	Object[] ֶζӦֵ
-	 * @param dbs	DBSession ݿSession
-	 * @return Object ѯ
+	 * 用SQL在数据库中根据主键值组查询str，并返回结果
+	 * @param tableName	String 表名
+	 * @param str	String sql表达式
+	 * @param keyValues	Object[] 主键字段对应值
+	 * @param dbs	DBSession 数据库Session
+	 * @return Object 查询结果
 	 */
 	public static Sequence select(String tableName, String str, Object[] keyValues, DBSession dbs, String opt) {
 		return select(tableName, str, null, keyValues, dbs, opt);
 	}
 
 	/**
-	 * SQLݿиֵѯstrؽ
-	 * @param tableName	String 
-	 * @param str	String sqlʽ
-	 * @param keyNames	
-	 * @param keyValues	Object[] ֶζӦֵ
-	 * @param dbs	DBSession ݿSession
-	 * @return Object ѯ
+	 * 用SQL在数据库中根据主键值组查询str，并返回结果
+	 * @param tableName	String 表名
+	 * @param str	String sql表达式
+	 * @param keyNames	主键名称
+	 * @param keyValues	Object[] 主键字段对应值
+	 * @param dbs	DBSession 数据库Session
+	 * @return Object 查询结果
 	 */
 	public static Sequence select(String tableName, String str, String[] keyNames, Object[] keyValues, DBSession dbs,
 			String opt) {
@@ -2562,12 +2562,12 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * SQLݿиֵѯstr飬ؽ
-	 * @param tableName	String 
-	 * @param str	String sqlʽ
-	 * @param keyValues	Object[] ֶζӦֵ
-	 * @param dbs	DBSession ݿSession
-	 * @return Object	ѯ
+	 * 用SQL在数据库中根据主键值组查询str构成数组，并返回结果构成序列
+	 * @param tableName	String 表名
+	 * @param str	String sql表达式
+	 * @param keyValues	Object[] 主键字段对应值
+	 * @param dbs	DBSession 数据库Session
+	 * @return Object	查询结果
 	 */
 	public static Sequence select(String tableName, String[] strs, String[] keyNames, Object[] keyValues, DBSession dbs,
 			String opt) {
@@ -2652,27 +2652,27 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * SQLݿиֵѯstr飬ؽ
-	 * @param tableName	String 
-	 * @param str	String sqlʽ
-	 * @param keyValues	Object[] ֶζӦֵ
-	 * @param dbs	DBSession ݿSession
-	 * @return 	Object ѯ
+	 * 用SQL在数据库中根据主键值组查询str构成数组，并返回结果构成序列
+	 * @param tableName	String 表名
+	 * @param str	String sql表达式
+	 * @param keyValues	Object[] 主键字段对应值
+	 * @param dbs	DBSession 数据库Session
+	 * @return 	Object 查询结果
 	 */
 	public static Sequence select(String tableName, String[] strs, Object[] keyValues, DBSession dbs, String opt) {
 		return select(tableName, strs, null, keyValues, dbs, opt);
 	}
 
 	/**
-	 * ָݿִsql䣬ؽеļ¼УֻһFieldһ¼ֱӷֵ򷵻ֵУ
-	 * Field¼򷵻ֵе
+	 * 对指定的数据库连接执行sql语句，返回结果集中的记录序列，如果只有一个Field一条记录，直接返回值，否则返回值的序列，
+	 * 遇到多条Field多条记录，则返回值序列的序列
 	 * @param sql
-	 *            String sql
+	 *            String sql语句
 	 * @param params
-	 *            Object[] ֵб
+	 *            Object[] 参数值列表
 	 * @param types
-	 *            byte[] бɿգͲμcom.scudata.common.Typesַ
-	 *            ͿʱΪͬڡĬϡͣʱעֵΪnull
+	 *            byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组如字符串组等类型
+	 *            当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
 	 * @param dbs
 	 *            DBSession
 	 * @return Sequence
@@ -2865,10 +2865,10 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ָݿִsql䣬ؽеļ¼УֻһFieldһ¼ֱӷֵ򷵻ֵУ
-	 * Field¼򷵻ֵе
+	 * 对指定的数据库连接执行sql语句，返回结果集中的记录序列，如果只有一个Field一条记录，直接返回值，否则返回值的序列，
+	 * 遇到多条Field多条记录，则返回值序列的序列
 	 * @param rs
-	 *            ResultSet ݼ
+	 *            ResultSet 结果数据集
 	 * @param dbCharset
 	 *            String
 	 * @param needTranContent
@@ -2876,7 +2876,7 @@ public class DatabaseUtil {
 	 * @param toCharset
 	 *            String
 	 * @param dbType
-	 *            int DBTypesж
+	 *            int DBTypes中定义的类型
 	 * @throws SQLException
 	 * @throws UnsupportedEncodingException
 	 * @return Sequence
@@ -2944,13 +2944,13 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * updateinsert
-	 * @param tableName	String /ͼ
-	 * @param str	String ҪµSQL
-	 * @param keyNames	String[] 
-	 * @param keyValues	Object[] ֵ
-	 * @param dbs	DBSession edited by bdl, 2012.9.18, ӷֵ
-	 * @return 	н ䷵IntegerͨsqlBoolean
+	 * 根据主键生成update或insert语句更新数据
+	 * @param tableName	String 表/视图名
+	 * @param str	String 要更新的SQL语句
+	 * @param keyNames	String[] 主键名
+	 * @param keyValues	Object[] 主键值
+	 * @param dbs	DBSession edited by bdl, 2012.9.18, 增加返回值
+	 * @return 	运行结果 更新语句返回Integer，普通sql返回Boolean
 	 */
 	public static Object update(String tableName, String str, Object[] params, byte[] types, Object[] keyValues,
 			DBSession dbs) {
@@ -3077,13 +3077,13 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * updateinsert
-	 * @param tableName	String /ͼ
-	 * @param strs	String[] ҪµSQL
-	 * @param keyNames	String[] 
-	 * @param keyValues	Object[] ֵ
-	 * @param dbs	DBSession edited by bdl, 2012.9.18, ӷֵ
-	 * @return н ䷵IntegerͨsqlBoolean
+	 * 根据主键生成update或insert语句更新数据
+	 * @param tableName	String 表/视图名
+	 * @param strs	String[] 要更新的SQL语句组
+	 * @param keyNames	String[] 主键名
+	 * @param keyValues	Object[] 主键值
+	 * @param dbs	DBSession edited by bdl, 2012.9.18, 增加返回值
+	 * @return 运行结果 更新语句返回Integer，普通sql返回Boolean
 	 */
 	public static Object update(String tableName, String[] strs, String[] keyNames, Object[] keyValues, DBSession dbs) {
 		if (tableName == null || tableName.trim().length() < 1) {
@@ -3175,14 +3175,14 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ִд洢䣬ؽУضݼ򷵻еУֵ뽫ֵָ
-	 * @param proc	String 洢
-	 * @param params	Object[] ֵ
-	 * @param modes	byte[] ģʽѡDatabaseUtil.PROC_MODE_IN, PROC_MODE_OUT, PROC_MODE_INOUT
-	 * @param types	byte[] 
-	 * @param outVariables	String[] ֵʱֵĲ
+	 * 执行存储过程语句，返回结果序列，如果返回多个数据集，则返回序列的序列，如果返回数值，则设入将值设入指定参数
+	 * @param proc	String 存储过程语句
+	 * @param params	Object[] 参数值
+	 * @param modes	byte[] 参数模式，可以选择DatabaseUtil.PROC_MODE_IN, PROC_MODE_OUT, PROC_MODE_INOUT
+	 * @param types	byte[] 参数类型
+	 * @param outVariables	String[] 输出值时，被赋值的参数名
 	 * @param dbs	DBSession
-	 * @param ctx	Context Ļ
+	 * @param ctx	Context 上下文环境
 	 */
 	public static Sequence proc(String sql, Object[] params, byte[] modes, byte[] types, String[] outVariables,
 			DBSession dbs, Context ctx) {
@@ -3419,7 +3419,7 @@ public class DatabaseUtil {
 				else if ((dbType == DBTypes.POSTGRES || dbType == DBTypes.DBONE) && dsPos > 0) {
 					rs = (ResultSet) ((CallableStatement) pst).getObject(dsPos);
 				}
-				// edited by bd, 2022.12.11, pstѾִй
+				// edited by bd, 2022.12.11, 如果有输出参数，pst已经执行过了
 				else if (hasOutParam) {
 				}
 				else {
@@ -3534,11 +3534,11 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ע
+	 * 注册参数
 	 * @param cst	CallableStatement
-	 * @param paramIndex	
-	 * @param type	
-	 * @param mm	Ϣ
+	 * @param paramIndex	参数序号
+	 * @param type	参数类型
+	 * @param mm	信息管理器
 	 */
 	public static void registerOtherParameter(CallableStatement cst, int paramIndex, int type, MessageManager mm) {
 		try {
@@ -3625,7 +3625,7 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * DBObjectãеÿһԪִвѯ䣬ؽϲ 
+	 * DBObject调用，针对序列的每一个元素执行查询语句，返回结果集合并的序表 
 	 * @param sql	String
 	 * @param valueGroup	Object[][]
 	 * @param types	int[]
@@ -3867,16 +3867,16 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * α±tableеֶfields ʹbatchִУҪһִиαݣȻ޷executeBatch
-	 * @param cs	ICursor Դα
-	 * @param table	String 
-	 * @param fields	String[] ֶ
-	 * @param fopts	String[] pֶaֶֶ
-	 * @param exps	Expression[] ֵʽ
-	 * @param opt	String tΪǸkɺ״̬
+	 * 根据游标更新表table中的字段fields， 使用batch执行，要求一次执行更新整个游标数据，不然无法控制executeBatch
+	 * @param cs	ICursor 源游标
+	 * @param table	String 表名
+	 * @param fields	String[] 字段名
+	 * @param fopts	String[] p：字段是主键，a：字段是自增字段
+	 * @param exps	Expression[] 值表达式
+	 * @param opt	String t：作为非更新序表处理，k：完成后不清理状态
 	 * @param dbs	DBSession
 	 * @param ctx	Context
-	 * @return int	ӷֵɹ
+	 * @return int	增加返回值，成功更新条数
 	 */
 	public static int update(ICursor cs, String table, String[] fields, String[] fopts, Expression[] exps, String opt,
 			DBSession dbs, Context ctx) {
@@ -3894,6 +3894,7 @@ public class DatabaseUtil {
 		String dbName = "";
 		int batchSize = 1000;
 		PreparedStatement pst = null;
+		DBBatchWriter writer = null;
 
 		try {
 			DBConfig dsConfig = null;
@@ -3970,7 +3971,8 @@ public class DatabaseUtil {
 			String update_sql = "";
 			String insert_sql = "";
 			while (true) {
-				Sequence fetchSeq = cs.fetch(batchSize);
+				// 只插入或只更新时流水线执行，读下一批数据时上一批在写线程里执行
+				Sequence fetchSeq = cs.fetch(writer == null ? batchSize : writer.getBatchSize());
 				if (fetchSeq == null || fetchSeq.length() == 0)
 					break;
 				if (initial) {
@@ -4144,7 +4146,7 @@ public class DatabaseUtil {
 							}
 
 							field = fields[iField];
-							if (field != null && field.trim().length() > 0) {//˴fieldûйǷΪһ飬xq 2015.4.21
+							if (field != null && field.trim().length() > 0) {//此处的field没有过滤是否为主键，造成主键会重设一遍，xq 2015.4.21
 								if (sets == null) {
 									sets = field + " = ?";
 								} else {
@@ -4236,8 +4238,12 @@ public class DatabaseUtil {
 									}
 								}
 							}
-							executeBatchPst(fetchSeq, pst, insertParams, insertTypes, ctx, dbs, dbCharset, tranSQL,
-									dbType, dbName);
+							if (writer == null) {
+								writer = new DBBatchWriter(new PreparedStatement[] {pst}, toByteArray(insertTypes), dbs,
+										dbCharset, tranSQL, dbType, dbName, batchSize);
+							}
+
+							executeBatchPst(fetchSeq, writer, insertParams, ctx);
 							isAutoDetect = false;
 						} else if (opt.indexOf('u') > -1) {
 							if (initial) {
@@ -4254,8 +4260,12 @@ public class DatabaseUtil {
 									}
 								}
 							}
-							executeBatchPst(fetchSeq, pst, updateParams, updateTypes, ctx, dbs, dbCharset, tranSQL,
-									dbType, dbName);
+							if (writer == null) {
+								writer = new DBBatchWriter(new PreparedStatement[] {pst}, toByteArray(updateTypes), dbs,
+										dbCharset, tranSQL, dbType, dbName, batchSize);
+							}
+
+							executeBatchPst(fetchSeq, writer, updateParams, ctx);
 							isAutoDetect = false;
 						}
 					}
@@ -4264,7 +4274,7 @@ public class DatabaseUtil {
 					if (isAutoDetect) {
 						Expression[] expParams = new Expression[primaryParams.size()];
 						primaryParams.toArray(expParams);
-						// edited by bd, 2022.4.15, αʱͨȽϴʱֶ֧ԿֵĴ
+						// edited by bd, 2022.4.15, 游标更新时，由于通常数据量比较大，暂时不支持对空值主键的处理
 						Sequence recordCount = query(fetchSeq, check_sql, expParams, toByteArray(primaryTypes), opt,
 								ctx, dbs, null, null, keysize);
 						Sequence updateRecords = new Sequence();
@@ -4291,7 +4301,7 @@ public class DatabaseUtil {
 						}
 					}
 
-					/* ִΪִ xq 2015.4.21 end */
+					/* 改造如下逐行执行为批量执行 xq 2015.4.21 end */
 				} catch (RQException e) {
 					//com.scudata.common.Logger.debug("update error:", e);
 					Logger.debug(mm.getMessage("error.update", e.getMessage()));
@@ -4300,12 +4310,26 @@ public class DatabaseUtil {
 					}
 				}
 			}
+			
+			if (writer != null) {
+				try {
+					writer.finish();
+				} catch (RQException e) {
+					Logger.debug(mm.getMessage("error.update", e.getMessage()));
+					if (dbs.getErrorMode()) {
+						dbs.setError(new SQLException(e.getMessage(), "Error: 5001 Update error: ", 5001));
+					}
+				}
+			}
 		} catch (RQException re) {
 			throw re;
 		} catch (Exception e) {
 			throw new RQException(e.getMessage(), e);
 		} finally {
 			try {
+				if (writer != null) {
+					writer.close();
+				}
 				if (opt == null || opt.indexOf('k') < 0) {
 					con.commit();
 				}
@@ -4319,21 +4343,21 @@ public class DatabaseUtil {
 				throw new RQException(e.getMessage(), e);
 			}
 		}
-		return 0;// ֪ĳֵ壬ʼշ0 xq 2015.4.21
+		return 0;// 批量处理，不知道在哪出错，返回值无意义，始终返回0 xq 2015.4.21
 	}
 	
 	private static byte Col_NormalKey = 0x02;
 
 	/**
-	 * db.update(A:A',tbl,F:x,;P,)ԴкͶԱУݿеtbl
-	 * @param srcSeq	Sequence ԴУtblӻ¼¼
-	 * @param compSeq	Sequence ԱУtblУɾcompSeqsrcSeqеļ¼
-	 * @param table	String ݿбtbl
-	 * @param fields	String[] ݿеֶʱϲAеֶ
-	 * @param fopts	String[] ÿֶεѡϲʽʱãap
-	 * @param exps	Expression[] ÿֶθõıʽʱϲ
-	 * @param opt	String ѡ֧֣iֻ;uֻ;dֻɾ;aִǰɾԭм¼;
-					lһֶԸֶ(ϲ㴦);kɺύ(ϲ㴦)
+	 * db.update(A:A',tbl,F:x,…;P,…)根据源排列和对比排列，更新数据库中的tbl表
+	 * @param srcSeq	Sequence 源排列，用于在tbl中添加或更新记录
+	 * @param compSeq	Sequence 对比排列，用于在tbl中，删除主键在compSeq而不在srcSeq中的记录
+	 * @param table	String 数据库中表名，tbl
+	 * @param fields	String[] 数据库表中的字段名，留空时由上层解析出A中的字段
+	 * @param fopts	String[] 针对每个字段的选项，由上层分析表达式时设置，a自增p主键
+	 * @param exps	Expression[] 针对每个字段更新所用的表达式，留空时由上层解析
+	 * @param opt	String 选项，支持：i只添加;u只更新;d只删除;a执行前删除原表中所有记录;
+					l第一个字段是自更新字段(上层处理);k完成后不提交事务(上层处理)
 	 * @param dbs	DBSession
 	 * @param ctx	Context
 	 * @return
@@ -4404,7 +4428,7 @@ public class DatabaseUtil {
 							autoKeys.add(fields[i]);
 						}
 						else if (fopt.indexOf("p") > -1) {
-							// edited by bd, 2022.4.14, ʱֵԤж
+							// edited by bd, 2022.4.14, 更新时不再设置主键值，这里预判断
 							ais[i] = Col_NormalKey;
 						}
 						else {
@@ -4621,8 +4645,8 @@ public class DatabaseUtil {
 					clearAll = true;
 				}
 
-				// edited by bd, 2022.4.14, ⲿֵָǰ֮ǰãΪʽȥпܰĿֵ
-				/* ִΪִ xq 2015.4.21 begin */
+				// edited by bd, 2022.4.14, 把这部分赋值提前，到生成语句之前设置，这是为了用这个表达式去计算主键中可能包含的空值
+				/* 改造如下逐行执行为批量执行 xq 2015.4.21 begin */
 				ArrayList<Expression> updateParams = new ArrayList<Expression>();
 				ArrayList<Expression> updateFields = new ArrayList<Expression>();
 				ArrayList<Expression> primaryParams = new ArrayList<Expression>();
@@ -4637,7 +4661,7 @@ public class DatabaseUtil {
 					}
 					insertParams.add(exps[iField]);
 					insertTypes.add(tColTypes[iField]);
-					// edited by bd, 2022.4.14, updateʱٸֵ
+					// edited by bd, 2022.4.14, update时不再更新主键值
 					if (ais[iField] != DatabaseUtil.Col_NormalKey) {
 						updateParams.add(exps[iField]);
 						updateFields.add(new Expression(fields[iField]));
@@ -4657,7 +4681,7 @@ public class DatabaseUtil {
 				updateParams.addAll(primaryParams);
 				updateTypes.addAll(primaryTypes);
 
-				// added by bd, 2022.4.14, ÿǷǿֵ
+				// added by bd, 2022.4.14, 计算每个主键是否是空值
 				Expression[] params = new Expression[primaryParams.size()];
 				ArrayList<Integer> nullKeys = new ArrayList<Integer>();
 				primaryParams.toArray(params);
@@ -4702,11 +4726,11 @@ public class DatabaseUtil {
 					if (key != null && key.trim().length() > 0) {
 						if (condition == null) {
 							condition = "(" + key + " = ?)";
-							// added by bd, 2022.4.14, ǰппֵڶӦļλõis null
+							// added by bd, 2022.4.14, 如果当前列可能有空值，则在对应的几个位置的条件都设上is null条件
 							if (ucons != null) {
 								int kloc = nullKeys.indexOf(j);
 								if (kloc>-1) {
-									// ǰܴڿֵ
+									// 当前主键可能存在空值
 									for (int k = 0; k < nulls; k++) {
 										if ((k & (1<<kloc)) == 0) {
 											ucons[k] = key + " is null";
@@ -4719,11 +4743,11 @@ public class DatabaseUtil {
 							}
 						} else {
 							condition += " and (" + key + " = ?)";
-							// added by bd, 2022.4.14, ǰппֵڶӦļλõis null
+							// added by bd, 2022.4.14, 如果当前列可能有空值，则在对应的几个位置的条件都设上is null条件
 							if (ucons != null) {
 								int kloc = nullKeys.indexOf(j);
 								if (kloc>-1) {
-									// ǰܴڿֵ
+									// 当前主键可能存在空值
 									for (int k = 0; k < nulls; k++) {
 										if ((k & (1<<kloc)) == 0) {
 											ucons[k] += " and " + key + " is null";
@@ -4747,14 +4771,14 @@ public class DatabaseUtil {
 				}
 				String usets = null;
 				for (int iField = 0; iField < fsize; iField++) {
-					// edited by bd, 2022.4.14, ʱٽһ
+					// edited by bd, 2022.4.14, 更新时不再将主键设一遍了
 					if (ais[iField] == DataStruct.Col_AutoIncrement || 
 							ais[iField] == DatabaseUtil.Col_NormalKey) {
 						continue;
 					}
 
 					field = fields[iField];
-					if (field != null && field.trim().length() > 0) {// ˴fieldûйǷΪһ飬xq
+					if (field != null && field.trim().length() > 0) {// ？？此处的field没有过滤是否为主键，造成主键会重设一遍，xq
 																		// 2015.4.21
 						if (usets == null) {
 							usets = field + " = ?";
@@ -4770,7 +4794,7 @@ public class DatabaseUtil {
 						throw new RQException(mm.getMessage("error.invalidField"));
 					}
 					else {
-						// edited by bd, 2022.4.14, ûֵֻʵǴģǾ͸һˣ
+						// edited by bd, 2022.4.14, 如果用户只更新了主键值（其实是错误的，但是就给他更新一个主键就是了）
 						for (int iField = 0; iField < fsize; iField++) {
 							if (ais[iField] == DataStruct.Col_AutoIncrement) {
 								continue;
@@ -4850,14 +4874,14 @@ public class DatabaseUtil {
 
 
 				boolean isAutoDetect = true;
-				if (opt != null) {// ûѡʱʹԶжϼ¼Ĳ
+				if (opt != null) {// 没有选项时，使用自动判断记录的插入或更新
 					if (opt.indexOf('d') > -1 && !clearAll) {
 						//Logger.debug("Delete-only, preparing delete records: "+delete_sql);
 						MessageManager mm = DataSetMessage.get();
 						Logger.debug(mm.getMessage("info.deleteOnly"));
 						Expression[] keysFields = new Expression[primaryFields.size()];
 						primaryFields.toArray(keysFields);
-						// edited by bd, 2022.4.15, ɾʱΪnullжʱ޷ʹF=?ҪʹF is nullΪˣҪremainSeqУΪnullļ¼ִ
+						// edited by bd, 2022.4.15, 删除时，主键如果为null，那判断时无法使用F=?，需要使用F is null，为此，需要把remainSeq中，主键为null的记录拆出来单独执行
 						executeDifferBatch(srcSeq, compSeq, delete_sql, primaryFields, primaryParams, primaryTypes, ctx, dbs, con,
 								dbCharset, tranSQL, dbType, dbName, batchSize, de_sqls, nullKeys, keysize);
 						isAutoDetect = false;
@@ -4896,7 +4920,7 @@ public class DatabaseUtil {
 							Sequence remainSeq = isectSequence(srcSeq, compSeq, keysParam, keysFields, ctx);
 							IArray oldMems = srcSeq.getMems();
 							srcSeq.setMems(remainSeq.getMems());
-							//edited by bd, 2022.4.15, @uѡʱkeysizeλõĿֵø
+							//edited by bd, 2022.4.15, @u选项时，根据最后keysize个位置的空值设置更新语句
 							executeDifferBatch(compSeq, srcSeq, update_sql, updateParams, updateFields, updateTypes, ctx, dbs, con,
 									dbCharset, tranSQL, dbType, dbName, batchSize, up_sqls, nullKeys, keysize);
 							srcSeq.setMems(oldMems);
@@ -4915,7 +4939,7 @@ public class DatabaseUtil {
 							//Logger.debug("Auto delete, preparing delete lost-records: "+delete_sql);
 							MessageManager mm = DataSetMessage.get();
 							Logger.debug(mm.getMessage("info.autoDelete"));
-							//edited by bd, 2022.4.15, @uѡʱkeysizeλõĿֵø
+							//edited by bd, 2022.4.15, @u选项时，根据最后keysize个位置的空值设置更新语句
 							executeDifferBatch(srcSeq, compSeq, delete_sql, primaryFields, primaryParams, primaryTypes, ctx, dbs, con,
 									dbCharset, tranSQL, dbType, dbName, batchSize, de_sqls, nullKeys, keysize);
 						}
@@ -4935,16 +4959,16 @@ public class DatabaseUtil {
 						Logger.debug("Auto update, preparing update changed-records: "+update_sql);
 						Logger.debug(mm.getMessage("info.autoUpdate"));
 						Sequence remainSeq = mergeDiffSequence(srcSeq, insertSeq, null, ctx);
-						// edited by bd, 2022.4.14, ʱΪnullжʱ޷ʹF=?ҪʹF is nullΪˣҪremainSeqУΪnullļ¼ִ
+						// edited by bd, 2022.4.14, 更新时，主键如果为null，那判断时无法使用F=?，需要使用F is null，为此，需要把remainSeq中，主键为null的记录拆出来单独执行
 						srcSeq.setMems(remainSeq.getMems());
-						//edited by bd, 2022.4.15, keysizeλõĿֵø
+						//edited by bd, 2022.4.15, 根据最后keysize个位置的空值设置更新语句
 						executeDifferBatch(compSeq, srcSeq, update_sql, updateParams, updateFields, updateTypes, ctx, dbs, con,
 								dbCharset, tranSQL, dbType, dbName, batchSize, up_sqls, nullKeys, keysize);
 						srcSeq.setMems(oldMems);
 					} else {
 						Expression[] expParams = new Expression[primaryParams.size()];
 						primaryParams.toArray(expParams);
-						//edited by bd, 2022.4.15, keysizeλõĿֵòѯ
+						//edited by bd, 2022.4.15, 根据最后keysize个位置的空值设置查询语句
 						Sequence recordCount = query(srcSeq, check_sql, expParams, toByteArray(primaryTypes), opt, ctx,
 								dbs, ch_sqls, nullKeys, keysize);
 						Sequence updateRecords = new Sequence();
@@ -4952,7 +4976,7 @@ public class DatabaseUtil {
 						int rsize = recordCount == null ? 0 : recordCount.length();
 						for (int i = 1; i <= rsize; i++) {
 							BaseRecord r = (BaseRecord) recordCount.get(i);
-							// edited by bd, 2022.12.9, ѯӦΪʱֹ
+							// edited by bd, 2022.12.9, 当查询对应数据为空时，防止错误
 							int c = 0;
 							if (r != null)
 								c = ((Number) r.getFieldValue(0)).intValue();
@@ -4982,7 +5006,7 @@ public class DatabaseUtil {
 					}
 				}
 
-				/* ִΪִ xq 2015.4.21 end */
+				/* 改造如下逐行执行为批量执行 xq 2015.4.21 end */
 			} catch (RQException e) {
 				//com.scudata.common.Logger.debug("update error:", e);
 				MessageManager mm = DataSetMessage.get();
@@ -5007,20 +5031,20 @@ public class DatabaseUtil {
 				throw new RQException(e.getMessage(), e);
 			}
 		}
-		return 0;// ֪ĳֵ壬ʼշ0 xq 2015.4.21
+		return 0;// 批量处理，不知道在哪出错，返回值无意义，始终返回0 xq 2015.4.21
 	}
 
 	/**
-	 * DBObjectãsrcSeries±tableеֶfields
-	 * @param srcSeries	Sequence Դ
-	 * @param table	String 
-	 * @param fields	String[] ֶ
-	 * @param fopts	String[] pֶaֶֶ
-	 * @param exps	Expression[] ֵʽ
-	 * @param opt	String tΪǸkɺ״̬
+	 * DBObject调用，根据srcSeries更新表table中的字段fields
+	 * @param srcSeries	Sequence 源排列
+	 * @param table	String 表名
+	 * @param fields	String[] 字段名
+	 * @param fopts	String[] p：字段是主键，a：字段是自增字段
+	 * @param exps	Expression[] 值表达式
+	 * @param opt	String t：作为非更新序表处理，k：完成后不清理状态
 	 * @param dbs	DBSession
 	 * @param ctx	Context
-	 * @return int 	ӷֵɹ
+	 * @return int 	增加返回值，成功更新条数
 	 */
 	public static int update(Sequence srcSeries, String table, String[] fields, String[] fopts, Expression[] exps,
 			String opt, DBSession dbs, Context ctx) {
@@ -5091,7 +5115,7 @@ public class DatabaseUtil {
 							autoKeys.add(fields[i]);
 						}
 						else if (fopt.indexOf("p") > -1) {
-							// edited by bd, 2022.4.14, ʱֵԤж
+							// edited by bd, 2022.4.14, 更新时不再设置主键值，这里预判断
 							ais[i] = Col_NormalKey;
 						}
 						else {
@@ -5307,8 +5331,8 @@ public class DatabaseUtil {
 					st.close();
 				}
 				
-				// edited by bd, 2022.4.15, ⲿֵָǰ֮ǰãΪʽȥпܰĿֵ
-				// ִΪִ xq 2015.4.21 begin
+				// edited by bd, 2022.4.15, 把这部分赋值提前，到生成语句之前设置，这是为了用这个表达式去计算主键中可能包含的空值
+				// 改造如下逐行执行为批量执行 xq 2015.4.21 begin
 				ArrayList<Expression> updateParams = new ArrayList<Expression>();
 				ArrayList<Expression> primaryParams = new ArrayList<Expression>();
 				ArrayList<Expression> insertParams = new ArrayList<Expression>();
@@ -5322,7 +5346,7 @@ public class DatabaseUtil {
 					}
 					insertParams.add(exps[iField]);
 					insertTypes.add(tColTypes[iField]);
-					// edited by bd, 2022.4.14, updateʱٸֵ
+					// edited by bd, 2022.4.14, update时不再更新主键值
 					if (ais[iField] != DatabaseUtil.Col_NormalKey) {
 						updateParams.add(exps[iField]);
 						updateTypes.add(tColTypes[iField]);
@@ -5362,7 +5386,7 @@ public class DatabaseUtil {
 					}
 
 					field = fields[iField];
-					if (field != null && field.trim().length() > 0) {// ˴fieldûйǷΪһ飬xq 2015.4.21
+					if (field != null && field.trim().length() > 0) {// ？？此处的field没有过滤是否为主键，造成主键会重设一遍，xq 2015.4.21
 						if (sets == null) {
 							sets = field + " = ?";
 						} else {
@@ -5416,14 +5440,14 @@ public class DatabaseUtil {
 
 
 				boolean isAutoDetect = true;
-				if (opt != null) {// ûѡʱʹԶжϼ¼Ĳ
-					if (oClear || oInsert) {// ǿƶÿ¼ִinsertϷɳԱ֤ͨaִɾ
+				if (opt != null) {// 没有选项时，使用自动判断记录的插入或更新
+					if (oClear || oInsert) {// 强制对每条记录执行insert，合法性由程序员保证，通常会配上a，先执行删除
 						//Logger.debug("Insert-only, preparing insert records: "+insert_sql);
 						MessageManager mm = DataSetMessage.get();
 						Logger.debug(mm.getMessage("info.insertOnly", table));
 						executeBatchSql(srcSeries, insert_sql, insertParams, insertTypes, ctx, dbs);
 						isAutoDetect = false;
-					} else if (opt.indexOf('u') > -1) {// ǿƶÿ¼ִupdateϷɳԱ֤
+					} else if (opt.indexOf('u') > -1) {// 强制对每条记录执行update，合法性由程序员保证
 						//Logger.debug("Update-only, preparing update records: "+update_sql);
 						MessageManager mm = DataSetMessage.get();
 						Logger.debug(mm.getMessage("info.updateOnly", table));
@@ -5431,7 +5455,7 @@ public class DatabaseUtil {
 						isAutoDetect = false;
 					}
 				}
-				if (isAutoDetect) {// ʹԶ̽¼Ĳ͸״̬
+				if (isAutoDetect) {// 使用自动探测记录的插入和更新状态
 					Expression[] expParams = new Expression[primaryParams.size()];
 					primaryParams.toArray(expParams);
 					
@@ -5463,7 +5487,7 @@ public class DatabaseUtil {
 					}
 				}
 
-				// ִΪִ xq 2015.4.21 end 
+				// 改造如下逐行执行为批量执行 xq 2015.4.21 end 
 			} catch (RQException e) {
 				//com.scudata.common.Logger.debug("update error:", e);
 				MessageManager mm = DataSetMessage.get();
@@ -5488,7 +5512,7 @@ public class DatabaseUtil {
 				throw new RQException(e.getMessage(), e);
 			}
 		}
-		return 0;// ֪ĳֵ壬ʼշ0 xq 2015.4.21
+		return 0;// 批量处理，不知道在哪出错，返回值无意义，始终返回0 xq 2015.4.21
 	}
 
 	private static void executeBatchSql(Sequence srcSeries, String sql, ArrayList<Expression> exps, ArrayList<Byte> expTypes,
@@ -5498,9 +5522,9 @@ public class DatabaseUtil {
 		execute(srcSeries, sql, expParams, toByteArray(expTypes), ctx, dbs);
 	}
 
-	// edited by bd, 2022.4.15, Ӳde_sqlsnullKeysǿִɾsqlʱֵпֵҪis nullжϣӦde_sqlsлȡ
-	// nullKeysм¼Ǹֵܿλãݿֵλûȡde_sqlsλã3ֵȫǿֵӦλ01ֵӦ110
-	// keysize¼updateʱıȽ
+	// edited by bd, 2022.4.15, 添加参数de_sqls和nullKeys，这是考虑在执行删除sql时，如果键值中有空值需要用is null的判断，对应语句从de_sqls中获取，
+	// nullKeys中记录的是各个可能空值的位置，根据空值产生的位置获取de_sqls中语句位置，如可能有3个空值，全是空值对应位置0，第1个空值对应110……等
+	// 添加keysize记录共几个键，用于update时的比较
 	private static void executeDifferBatch(Sequence srcSeq, Sequence compSeq, String sql,
 			ArrayList<Expression> paramExps, ArrayList<Expression> oldFieldExps, ArrayList<Byte> paramTypes, Context ctx, DBSession dbs, Connection con,
 			String dbCharset, boolean tranSQL, int dbType, String dbn, int batchSize, String[] nullSqls, ArrayList<Integer> nullKeys, int keysize) {
@@ -5514,7 +5538,7 @@ public class DatabaseUtil {
 			return;
 		}
 		int pCount = params == null ? 0 : params.length;
-		// edited by bd, 2022.4.15, keyStart¼ӵڼλѾǼֵˡ
+		// edited by bd, 2022.4.15, keyStart记录从第几个位置起已经是键值了。
 		int keyStart = pCount - keysize;
 		int len = compSeq.length();
 		ComputeStack stack = ctx.getComputeStack();
@@ -5540,8 +5564,8 @@ public class DatabaseUtil {
 						if (nkeys && p >= keyStart && pv == null) {
 							int kloc = nullKeys.indexOf(p-keyStart);
 							nloc = nloc + (1<<kloc);
-							// ĳis nullжϣӦĲ
-							// ǵ趨ȻûִбȽ
+							// 如果改成了is null判断，对应的参数不必设了
+							// 还是得先设定，不然没法执行比较了
 						}
 						pValues.add(pv);
 					}
@@ -5591,7 +5615,7 @@ public class DatabaseUtil {
 		}
 		executeBatch(sql, valueGroup, types, dbs, con, dbCharset, tranSQL, dbType, dbn, batchSize, true);
 
-		// compSeqаֵ
+		// 如果compSeq中包含空值键
 		if (nkeys) {
 			for (int i = 0; i < nulls; i++) {
 				Sequence nullParam = nullParams.get(i);
@@ -5604,7 +5628,7 @@ public class DatabaseUtil {
 				sql = nullSqls[i];
 				for (int j = 1; j <= len; ++j) {
 					Sequence seq = (Sequence) diffParamSeq.get(j);
-					// ȽϺȥеĿֵ
+					// 比较后，再在这里去掉参数中的空值
 					int psize = seq.length();
 					ArrayList<Object> ps = new ArrayList<Object>();
 					for (int p = 0; p < psize; p++) {
@@ -5791,12 +5815,11 @@ public class DatabaseUtil {
 		return result;
 	}
 
-	private static void executeBatchPst(Sequence srcSeries, PreparedStatement pst, ArrayList<Expression> exps,
-			ArrayList<Byte> expTypes, Context ctx, DBSession dbs, String dbCharset, boolean tranSQL, int dbType,
-			String name) {
+	private static void executeBatchPst(Sequence srcSeries, DBBatchWriter writer, ArrayList<Expression> exps,
+			Context ctx) {
 		Expression[] expParams = new Expression[exps.size()];
 		exps.toArray(expParams);
-		executePst(srcSeries, pst, expParams, toByteArray(expTypes), ctx, dbs, dbCharset, tranSQL, dbType, name);
+		executePst(srcSeries, writer, expParams, ctx);
 	}
 
 	private static void executeBatchSql(Sequence srcSeries, String sql, ArrayList<Expression> exps,
@@ -5813,7 +5836,7 @@ public class DatabaseUtil {
 		return query(srcSeries, sql, params, types, opt, ctx, dbs, null, null, 0);
 	}
 
-	/* ÷DBObjectŲģ xq 2015.4.21 */
+	/* 共享出该方法，从DBObject挪过来的， xq 2015.4.21 */
 	private static Sequence query(Sequence srcSeries, String sql, Expression[] params, byte[] types, String opt,
 			Context ctx, DBSession dbs, String[] nullSqls, ArrayList<Integer> nullKeys, int keysize) {
 		if (srcSeries == null || srcSeries.length() == 0 || params == null || params.length == 0) {
@@ -5821,11 +5844,11 @@ public class DatabaseUtil {
 		}
 
 		int pCount = params.length;
-		// edited by bd, 2022.4.15, keyStart¼ӵڼλѾǼֵˡ
+		// edited by bd, 2022.4.15, keyStart记录从第几个位置起已经是键值了。
 		int keyStart = pCount - keysize;
 		int len = srcSeries.length();
 		//Object[][] valueGroup = new Object[len][pCount];
-		// edited by bd, 2022.4.15, ҪӦԿֵĸǲ
+		// edited by bd, 2022.4.15, 如果需要应对空值，则参数的个数是不定的
 		ArrayList<ArrayList<Object>> vgs = new ArrayList<ArrayList<Object>>(len);
 
 		ComputeStack stack = ctx.getComputeStack();
@@ -5835,7 +5858,7 @@ public class DatabaseUtil {
 		int nulls = nullSqls == null ? 0 : nullSqls.length;
 		boolean nkeys = nullKeys != null && nullKeys.size() > 0 && nulls > 0;
 		ArrayList<ArrayList<ArrayList<Object>>> nullParams = null;
-		// res μ¼ĲѯԴ0nullֵĲѯӦnullParamsеĳԱλ+1
+		// res 用来依次记录的查询结果来源，0是来自无null值的查询，其它对应nullParams中的成员位置+1
 		int[] res = new int[len];
 		if (nkeys) {
 			nullParams = new ArrayList<ArrayList<ArrayList<Object>>>(nulls);
@@ -5862,8 +5885,8 @@ public class DatabaseUtil {
 						if (nkeys && p >= keyStart && pv == null) {
 							int kloc = nullKeys.indexOf(p-keyStart);
 							nloc = nloc + (1<<kloc);
-							// ĳis nullжϣӦĲ
-							// ǵ裬ȻֱȱʧĻб仯޷ԭֵȽ
+							// 如果改成了is null判断，对应的参数不必设了
+							// 还是得设，不然直接缺失的话，长度有变化，无法与原值比较
 						}
 						pValues.add(pv);
 					}
@@ -5884,7 +5907,7 @@ public class DatabaseUtil {
 		Object[][] valueGroup = toGroup(vgs);
 		Table tbl = DatabaseUtil.queryGroup(sql, valueGroup, types, dbs, opt, ctx);
 
-		// edited by bd, 2022.4.15, Ϊ˸db.updateģ@iѡǲõģquery@iַسһе
+		// edited by bd, 2022.4.15, 这个方法在这里是为了更新db.update的，这里@i选项是插入用的，不存在query@i这种返回成一列的情况
 		/*
 		if (tbl != null && tbl.dataStruct().getFieldCount() == 1 && opt != null && opt.indexOf('i') != -1) {
 			return tbl.fieldValues(0);
@@ -5893,7 +5916,7 @@ public class DatabaseUtil {
 		}
 		*/
 
-		// compSeqаֵ
+		// 如果compSeq中包含空值键
 		if (nkeys) {
 			ArrayList<Table> nTbls = new ArrayList<Table>(nulls);
 			Table tbli = null;
@@ -5902,11 +5925,11 @@ public class DatabaseUtil {
 				valueGroup = toGroup(nullParam, keyStart);
 				if (valueGroup != null) {
 					//sql = nullSqls[i];
-					// ѯʱڿֵ˲ò
+					// 查询时，由于空值不定，因此不设置参数类型了
 					//tbli = DatabaseUtil.queryGroup(sql, valueGroup, null, dbs, opt, ctx);
 					tbli = DatabaseUtil.queryGroup(nullSqls[i], valueGroup, null, dbs, opt, ctx);
 				}
-				// edited by bd, 2022.12.9, ԶжϿֵʱis nullӦsqlвҪĿ
+				// edited by bd, 2022.12.9, 自动判断空值时，is null对应的sql有不需要参数的可能性
 				else if (nullSqls[i].indexOf("?")<0) {
 					valueGroup = new Object[1][];
 					valueGroup[0] = null;
@@ -5925,7 +5948,7 @@ public class DatabaseUtil {
 				}
 				else {
 					//o = nTbls.get(ri-1).get(locs[ri]);
-					// edited by bd, 2022.12.9, ԶжϿֵʱֹnTblsпδ¼
+					// edited by bd, 2022.12.9, 自动判断空值时，防止nTbls中有可能未记录数据
 					Table ot = nTbls.get(ri-1);
 					o = ot == null ? null : ot.get(locs[ri]);
 				}
@@ -5934,7 +5957,7 @@ public class DatabaseUtil {
 			return result;
 		}
 		else {
-			// ûпֱֵӷؾ
+			// 没有空值键，直接返回就是了
 			return tbl;
 		}
 	}
@@ -5981,14 +6004,14 @@ public class DatabaseUtil {
 		return result;
 	}
 
-	/* ÷ xq 2015.4.21 */
+	/* 共享该方法， xq 2015.4.21 */
 	public static Sequence query(String sql, Object[] params, byte[] types, String opt, Context ctx, DBSession dbs) {
 		// DBSession dbs = getDbSession();
-		// edited by bdl, 2015.7.28, ֧@iѡʱ
+		// edited by bdl, 2015.7.28, 支持@i选项，单列时返回序列
 		return DatabaseUtil.query(sql, params, types, dbs, opt, ctx);
 	}
 
-	/* һexecuteһsql xq 2015.4.21 */
+	/* 将针对一个序列execute一个批处理的sql方法共享， xq 2015.4.21 */
 	public static void execute(Sequence srcSeries, String sql, Expression[] params, byte[] types, Context ctx,
 			DBSession dbs) {// String opt,
 		if (srcSeries == null)
@@ -6020,19 +6043,19 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * ִУĳУִĳsql
-	 * @param sql	String sql
-	 * @param params	Expression[] ֶβıʽ
-	 * @param types	byte[] бɿգͲμcom.scudata.common.Types
-	 *            	ַ͡ͿʱΪͬڡĬϡͣʱעֵΪnull
-	 * @param ctx	Context ģĲ
-	 * @param dbs	DBSession ݿϢ¼״̬
-	 * @param con	Connection ݿӶ
-	 * @param dbCharset	ݿ룬ڽַת
-	 * @param tranSQL	ǷҪת룬ֻΪtrueʱ
-	 * @param dbType	ݿͣĳЩݿ趨ʱҪ
-	 * @param dbn	ݿƣڴʾ
-	 * @param batchSize	int ֵϲ
+	 * 批量执行，根据某个序列，计算参数后，执行某个sql
+	 * @param sql	String sql语句
+	 * @param params	Expression[] 各字段参数的表达式
+	 * @param types	byte[] 参数类型列表，可空，参数类型参见com.scudata.common.Types，可用数组
+	 *            	如字符串组等类型。当参数类型空时，认为等同于“默认”类型，此时注意参数值不能为null
+	 * @param ctx	Context 上下文，计算上面的参数用
+	 * @param dbs	DBSession 数据库信息，记录错误状态用
+	 * @param con	Connection 数据库连接对象
+	 * @param dbCharset	数据库编码，用于将字符串参数转码
+	 * @param tranSQL	是否需要转码，只有为true时处理
+	 * @param dbType	数据库类型，对于某些数据库在设定参数时可能需要特殊调整
+	 * @param dbn	数据库名称，用于错误提示
+	 * @param batchSize	int 批处理阈值，从上层获得
 	 */
 	private static void execute(Sequence srcSeries, String sql, Expression[] params, byte[] types, Context ctx,
 			DBSession dbs, Connection con, String dbCharset, boolean tranSQL, int dbType, String dbn, int batchSize) {// String
@@ -6066,15 +6089,30 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * һcursorִsqlʱҪһȫִУָfetch 2016.4.19
-	 * @param cs	α
-	 * @param sql	sql
-	 * @param params	ʹòα¼ıʽ
-	 * @param types	ͣΪnullʱʹ
-	 * @param ctx	
-	 * @param dbs	Դ趨
+	 * 针对一个cursor，批量执行sql，暂时要求一次全部执行，而不是指定fetch 2016.4.19
+	 * @param cs	游标
+	 * @param sql	sql语句
+	 * @param params	使用参数，关于游标记录的表达式
+	 * @param types	参数类型，当参数为null时会使用
+	 * @param ctx	上下文
+	 * @param dbs	数据源设定
 	 */
 	public static void execute(ICursor cs, String sql, Expression[] params, byte[] types, Context ctx, DBSession dbs) {
+		execute(cs, sql, params, types, ctx, dbs, 1);
+	}
+
+	/**
+	 * 针对一个cursor，流水线批量执行sql，读游标、计算参数的同时上一批在写线程里执行
+	 * @param cs	游标
+	 * @param sql	sql语句
+	 * @param params	使用参数，关于游标记录的表达式
+	 * @param types	参数类型，当参数为null时会使用
+	 * @param ctx	上下文
+	 * @param dbs	数据源设定
+	 * @param conCount	并行写的连接数，大于1时另建conCount-1个连接，各自执行完后提交
+	 */
+	public static void execute(ICursor cs, String sql, Expression[] params, byte[] types, Context ctx, DBSession dbs,
+			int conCount) {
 		PreparedStatement pst = null;
 		Connection con = null;
 		String dbCharset = null;
@@ -6088,6 +6126,10 @@ public class DatabaseUtil {
 			name = info.getName();
 		}
 		int batchSize = 1000;
+		ArrayList<DBSession> sessionList = new ArrayList<DBSession>(); // 另建的连接
+		ArrayList<PreparedStatement> pstList = new ArrayList<PreparedStatement>();
+		DBBatchWriter writer = null;
+		boolean isSuccess = false;
 
 		try {
 			DBConfig dsConfig = null;
@@ -6141,20 +6183,57 @@ public class DatabaseUtil {
 					throw new RQException(mm.getMessage("error.sqlException", name, sql) + " : " + e.getMessage(), e);
 				}
 			}
+			
+			pstList.add(pst);
+			if (conCount > 1 && dsConfig != null) {
+				ISessionFactory factory = dsConfig.createSessionFactory();
+				for (int i = 1; i < conCount; ++i) {
+					DBSession session = factory.getSession();
+					sessionList.add(session);
+					Connection subCon = (Connection) session.getSession();
+					subCon.setAutoCommit(false);
+					pstList.add(subCon.prepareStatement(sql));
+				}
+			}
+			
+			PreparedStatement []psts = new PreparedStatement[pstList.size()];
+			pstList.toArray(psts);
+			writer = new DBBatchWriter(psts, types, dbs, dbCharset, tranSQL, dbType, name, batchSize);
 			while (true) {
-				Sequence fetchSeq = cs.fetch(batchSize);
+				Sequence fetchSeq = cs.fetch(writer.getBatchSize());
 				if (fetchSeq == null || fetchSeq.length() == 0)
 					break;
-				DatabaseUtil.executePst(fetchSeq, pst, params, types, ctx, dbs, dbCharset, tranSQL, dbType, name);
+				executePst(fetchSeq, writer, params, ctx);
 			}
+			
+			writer.finish();
+			isSuccess = true;
 		} catch (RQException re) {
 			throw re;
 		} catch (Exception e) {
 			throw new RQException(e.getMessage(), e);
 		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+			
 			try {
-				if (pst != null) {
-					pst.close();
+				for (PreparedStatement p : pstList) {
+					if (p != null) {
+						p.close();
+					}
+				}
+				
+				// 另建的连接在这里提交，主连接由调用者提交
+				for (DBSession session : sessionList) {
+					Connection subCon = (Connection) session.getSession();
+					if (isSuccess) {
+						subCon.commit();
+					} else {
+						subCon.rollback();
+					}
+					
+					session.close();
 				}
 			} catch (Exception e) {
 				throw new RQException(e.getMessage(), e);
@@ -6162,10 +6241,13 @@ public class DatabaseUtil {
 		}
 	}
 
-	private static void executePst(Sequence srcSeries, PreparedStatement pst, Expression[] params, byte[] types,
-			Context ctx, DBSession dbs, String dbCharset, boolean tranSQL, int dbType, String name) {
-		if (srcSeries == null)
-			return;
+	// 计算一批参数值交给批量写对象执行
+	private static void executePst(Sequence srcSeries, DBBatchWriter writer, Expression[] params, Context ctx) {
+		writer.write(getParamValues(srcSeries, params, ctx));
+	}
+
+	// 针对序列的每个成员计算参数值
+	private static Object[][] getParamValues(Sequence srcSeries, Expression[] params, Context ctx) {
 		int paramCount = params == null ? 0 : params.length;
 		int len = srcSeries.length();
 		Object[][] valueGroup = new Object[len][paramCount];
@@ -6188,12 +6270,12 @@ public class DatabaseUtil {
 		} finally {
 			stack.pop();
 		}
-
-		executeBatch(pst, valueGroup, types, dbs, dbCharset, tranSQL, dbType, name, true);
+		
+		return valueGroup;
 	}
-	
+
 	/**
-	 * autoDBڸdfxʱӺͷŶõԶԴ
+	 * 下述两个autoDB，用于在各处计算dfx时，连接和释放定义好的自动连接数据源
 	 * @param ctx
 	 * @param startDsNames
 	 */
@@ -6214,7 +6296,7 @@ public class DatabaseUtil {
 	}
 
 	/**
-	 * Զر
+	 * 自动关闭连接
 	 * @param ctx
 	 */
 	public static void closeAutoDBs(Context ctx) {
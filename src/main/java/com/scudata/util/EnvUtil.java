@@ -9,20 +9,20 @@ import com.scudata.dm.Param;
 import com.scudata.dm.Sequence;
 
 /**
- * صĹ
+ * 环境相关的工具类
  * @author RunQian
  *
  */
 public class EnvUtil {
-	private static final long G = 1024 * 1024 * 1024; // 1GĴС
-	private static final int FIELDSIZE = 50; // ڴʱÿֶռõĿռС
-	private static final int MAXRECORDCOUNT = 20000000; // ڴб¼
+	private static final long G = 1024 * 1024 * 1024; // 1G的大小
+	private static final int FIELDSIZE = 50; // 估算内存时每个字段占用的空间大小
+	private static final int MAXRECORDCOUNT = 20000000; // 内存中保存的最大记录数量
 	
-	// ȡǰڴԴԼɶ¼
+	// 取当前空闲内存可以大约再生成多少条记录
 	/**
-	 * ȡǰڴԼԴŶ¼
-	 * @param fcount ֶ
-	 * @return ¼
+	 * 取当前空闲内存大约可以存放多少条记录
+	 * @param fcount 字段数
+	 * @return 记录数量
 	 */
 	public static int getCapacity(int fcount) {
 		Runtime rt = Runtime.getRuntime();
@@ -38,10 +38,87 @@ public class EnvUtil {
 	}
 	
 	/**
-	 * Ƿпڴα
+	 * 按抽样估算排列中每条记录在内存中占用的字节数
+	 * @param table 纯排列
+	 * @return 平均每条记录的字节数
+	 */
+	public static long estimateRecordSize(Sequence table) {
+		int len = table.length();
+		if (len == 0) {
+			return FIELDSIZE;
+		}
+		
+		int step = len > 1000 ? len / 1000 : 1;
+		long total = 0;
+		int count = 0;
+		
+		for (int i = 1; i <= len; i += step) {
+			Object []vals = ((BaseRecord)table.getMem(i)).getFieldValues();
+			total += 40 + 8 * vals.length;
+			for (Object val : vals) {
+				total += estimateSize(val);
+			}
+			
+			count++;
+		}
+		
+		return total / count;
+	}
+	
+	/**
+	 * 按抽样估算对象在内存中占用的字节数，序列的成员可以是记录或其它值
+	 * @param val 对象
+	 * @return 字节数
+	 */
+	public static long estimateMemory(Object val) {
+		if (val instanceof Sequence) {
+			Sequence seq = (Sequence)val;
+			int len = seq.length();
+			if (len == 0) {
+				return 64;
+			}
+			
+			int step = len > 1000 ? len / 1000 : 1;
+			long total = 0;
+			int count = 0;
+			for (int i = 1; i <= len; i += step) {
+				total += estimateMemory(seq.getMem(i));
+				count++;
+			}
+			
+			return 64 + len * (8 + total / count);
+		} else if (val instanceof BaseRecord) {
+			Object []vals = ((BaseRecord)val).getFieldValues();
+			long total = 40 + 8 * vals.length;
+			for (Object v : vals) {
+				total += estimateSize(v);
+			}
+			
+			return total;
+		} else {
+			return estimateSize(val);
+		}
+	}
+	
+	private static long estimateSize(Object val) {
+		if (val == null) {
+			return 0;
+		} else if (val instanceof String) {
+			return 40 + 2 * ((String)val).length();
+		} else if (val instanceof Integer || val instanceof Boolean) {
+			return 16;
+		} else if (val instanceof Sequence || val instanceof BaseRecord) {
+			return 64;
+		} else {
+			return 24;
+		}
+	}
+	
+	/**
+	 * 测试是否还有空闲内存继续从游标读数
 	 * @param rt Runtime
-	 * @param table Ѷ
-	 * @return trueԼfalseٶ
+	 * @param table 已读的数据
+	 * @return true：可以继续读，false：不可以再读了
 	 */
 	public static boolean memoryTest(Runtime rt, Sequence table) {
 		int len = table.length();
@@ -58,7 +135,7 @@ public class EnvUtil {
 			fcount = ((BaseRecord)obj).getFieldCount();
 		}
 		
-		int recordCount = (int)G / (fcount * FIELDSIZE); // 1gڴԼܹɵļ¼
+		int recordCount = (int)G / (fcount * FIELDSIZE); // 1g内存大约能够容纳的记录数
 		
 		if (freeMemory < 300000000L) { // 300m
 			return len < recordCount / 10;
@@ -74,7 +151,7 @@ public class EnvUtil {
 	}
 	
 	/**
-	 * ִռ
+	 * 执行垃圾收集
 	 * @param rt Runtime
 	 */
 	public static void runGC(Runtime rt) {
@@ -86,9 +163,9 @@ public class EnvUtil {
 	}
 
 	/**
-	 * ұеıSessionеģEnvеȫֱ
-	 * @param varName String 
-	 * @param ctx Context 
+	 * 查找变量，先找上下文中的变量，再找Session中的，最后是Env中的全局变量。
+	 * @param varName String 变量名
+	 * @param ctx Context 计算上下文
 	 * @return Param
 	 */
 	public static Param getParam(String varName, Context ctx) {
@@ -107,10 +184,10 @@ public class EnvUtil {
 	}
 
 	/**
-	 * ɾ
-	 * @param varName 
-	 * @param ctx 
-	 * @return Param ɾıûҵ򷵻ؿ
+	 * 删除变量
+	 * @param varName 变量名
+	 * @param ctx 计算上下文
+	 * @return Param 删除的变量，没找到则返回空
 	 */
 	public static Param removeParam(String varName, Context ctx) {
 		if (ctx != null) {
@@ -132,9 +209,9 @@ public class EnvUtil {
 	}
 
 	/**
-	 * ȡݿӹ
-	 * @param dbName ݿ
-	 * @param ctx 
+	 * 取数据库连接工厂
+	 * @param dbName 数据库名
+	 * @param ctx 计算上下文
 	 * @return ISessionFactory
 	 */
 	public static ISessionFactory getDBSessionFactory(String dbName, Context ctx) {
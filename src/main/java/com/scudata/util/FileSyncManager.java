@@ -8,19 +8,19 @@ import com.scudata.dm.LocalFile;
 
 
 /**
- * ȡļͬ
- * ߳޸ļʱͬļȡͬͬ
+ * 用于取文件的同步对象
+ * 多线程修改文件时，如果想做同步，则用文件取出同步对象来做同步
  * @author RunQian
  *
  */
 public final class FileSyncManager {
-	// ļͬӳ
+	// 文件和同步对象映射
 	private static HashMap<File, File> fileMap = new HashMap<File, File>();
 	
 	/**
-	 * ȡļͬ󣬷ļʱڴ˶ϼ
-	 * @param fo ļ
-	 * @return Object ͬ
+	 * 取得文件的同步对象，访问文件时在此对象上加锁
+	 * @param fo 文件对象
+	 * @return Object 用于同步对象
 	 */
 	public static Object getSyncObject(FileObject fo) {
 		LocalFile lf = fo.getLocalFile();
@@ -29,9 +29,9 @@ public final class FileSyncManager {
 	}
 	
 	/**
-	 * ȡļͬ󣬷ļʱڴ˶ϼ
-	 * @param file ļ
-	 * @return Object ͬ
+	 * 取得文件的同步对象，访问文件时在此对象上加锁
+	 * @param file 文件
+	 * @return Object 用于同步对象
 	 */
 	public static Object getSyncObject(File file) {
 		synchronized(fileMap) {
@@ -2,8 +2,8 @@
 package com.scudata.util;
 
 /**
- * javaFloatingDecimal޸ģʽǷnull׳쳣
- * ڴͽ׳쳣Ӱܡ
+ * 对java的FloatingDecimal做了修改，格式错误是返回null不再抛出异常。
+ * 对于大数据量的类型解析抛出异常影响性能。
  */
 public class FloatingDecimal {
 	boolean isExceptional;
@@ -12,19 +12,19 @@ import org.jsoup.select.Elements;
 import com.scudata.dm.Sequence;
 
 /**
- * HTML࣬ڶȡHTML
+ * HTML工具类，用于读取HTML数据
  * @author RunQian
  *
  */
 public class HTMLUtil {
 	
 	/**
-	 * ȡHTMLָtagµָŵıس
-	 * @param html HTML
-	 * @param tags ǩ
-	 * @param seqs ǩµı
-	 * @param subSeqs 
-	 * @return 
+	 * 取出HTML串中指定tag下的指定序号的文本，返回成序列
+	 * @param html HTML内容
+	 * @param tags 标签名数组
+	 * @param seqs 标签下的文本序号
+	 * @param subSeqs 子序号
+	 * @return 序列
 	 */
 	public static Sequence htmlparse(String html, String []tags, int []seqs, int []subSeqs) {
 		int len = tags.length;
@@ -32,13 +32,13 @@ public class HTMLUtil {
 		
 		Document doc = Jsoup.parse(html);
 		for (int i = 0; i < len; ++i) {
-			// tagȡӦ
+			// 根据tag名称取出相应的项
 			Elements elements = doc.getElementsByTag(tags[i]);
 			if (elements != null && elements.size() > seqs[i]) {
-				// ȡı
+				// 根据序号取出文本
 				Element element = elements.get(seqs[i]);
 				if (tags[i].equals("table")) {
-					// е
+					// 表格生成序列的序列
 					Elements rows = element.select("tr");
 					int rowCount = rows == null ? 0 : rows.size();
 					Sequence rowValues = new Sequence(rowCount);
@@ -53,7 +53,7 @@ public class HTMLUtil {
 							colCount = cols == null ? 0 : cols.size();
 						}
 						
-						// ÿжһ
+						// 每行读成一个序列
 						Sequence colValues = new Sequence(colCount);
 						rowValues.add(colValues);
 						
@@ -92,9 +92,9 @@ public class HTMLUtil {
 	}
 
 	/**
-	 * ȡtextڵ
-	 * @param node ڵ
-	 * @param out 
+	 * 取所有text节点的数据
+	 * @param node 节点
+	 * @param out 输出序列
 	 */
 	private static void getAllNodeText(Node node, Sequence out) {
 		if (node instanceof TextNode) {
@@ -106,7 +106,7 @@ public class HTMLUtil {
 				}
 			}
 		} else {
-			// ӽڵ
+			// 继续遍历子节点
 			List<Node> childs = node.childNodes();
 			if (childs != null) {
 				for (Node child : childs) {
@@ -117,9 +117,9 @@ public class HTMLUtil {
 	}
 	
 	/**
-	 * ȡtextڵݣس
-	 * @param html HTML
-	 * @return 
+	 * 取所有text节点的数据，返回成序列
+	 * @param html HTML内容
+	 * @return 序列
 	 */
 	public static Sequence htmlparse(String html) {
 		Sequence result = new Sequence();
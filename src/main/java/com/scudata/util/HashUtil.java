@@ -7,14 +7,14 @@ import com.scudata.dm.ListBase1;
 import com.scudata.dm.Sequence;
 
 /**
- * Ϊָϣһϣֵ
+ * 为指定哈希表容量算出一个哈希值
  * @author WangXiaoJun
  *
  */
 public final class HashUtil {
-	private final int capacity; // ϣ
+	private final int capacity; // 哈希表容量
 
-	// ΪϣһЩֵϣΪʱϣֵظʽϵ
+	// 可以设为哈希表容量的一些值，哈希表容量为素数时哈希值重复率较低
 	private static final int []PRIMES = new int []{
 		13, 19, 29, 41, 59, 79, 107, 149, 197, 263, 347, 457, 599, 787, 1031,
 		1361, 1777, 2333, 3037, 3967, 5167, 6719, 8737, 11369, 14783,
@@ -46,25 +46,25 @@ public final class HashUtil {
 	}
 	
 	/**
-	 * ϣֵɹߣϣEnv.getDefaultHashCapacity()ﶨ
+	 * 构建哈希值生成工具，哈希表容量采用Env.getDefaultHashCapacity()里定义的
 	 */
 	public HashUtil() {
 		this.capacity = Env.getDefaultHashCapacity();
 	}
 
 	/**
-	 * ϣֵɹ
-	 * @param capacity ϣڲΪһʹϣֵظȵ͵
-	 * getCapacityȡ
+	 * 构建哈希值生成工具
+	 * @param capacity 哈希表容量，此容量内部会调整为一个使哈希值更重复度低的容量，
+	 * 调用getCapacity获取调整后的容量
 	 */
 	public HashUtil(int capacity) {
 		this.capacity = getNearCapacity(capacity);
 	}
 
 	/**
-	 * ϣֵɹ
-	 * @param capacity ϣ
-	 * @param doAdjust Ƿtruefalse
+	 * 构建哈希值生成工具
+	 * @param capacity 哈希表容量
+	 * @param doAdjust 是否对容量做调整，true：调整，false：不调整
 	 */
 	public HashUtil(int capacity, boolean doAdjust) {
 		if (doAdjust) {
@@ -75,7 +75,7 @@ public final class HashUtil {
 	}
 	
 	/**
-	 * ȡϣ
+	 * 取哈希表容量
 	 * @return int
 	 */
 	public int getCapacity() {
@@ -83,19 +83,19 @@ public final class HashUtil {
 	}
 
 	/**
-	 * Ĺϣֵ
-	 * @param vals 
-	 * @return ϣֵ
+	 * 计算对象数组的哈希值
+	 * @param vals 对象数组
+	 * @return 哈希值
 	 */
 	public int hashCode(Object []vals) {
 		return hashCode(vals, vals.length);
 	}
 
 	/**
-	 * Ĺϣֵ
-	 * @param vals 
-	 * @param count 
-	 * @return ϣֵ
+	 * 计算对象数组的哈希值
+	 * @param vals 对象数组
+	 * @param count 数量
+	 * @return 哈希值
 	 */
 	public int hashCode(Object []vals, int count) {
 		int hash = vals[0] != null ? vals[0].hashCode() : 0;
@@ -111,9 +111,9 @@ public final class HashUtil {
 	}
 
 	/**
-	 * Ĺϣֵ
-	 * @param val 
-	 * @return ϣֵ
+	 * 计算对象的哈希值
+	 * @param val 对象
+	 * @return 哈希值
 	 */
 	public int hashCode(Object val) {
 		if (val != null) {
@@ -124,10 +124,10 @@ public final class HashUtil {
 	}
 	
 	/**
-	 * ָϣµĹϣֵ
-	 * @param val 
-	 * @param capacity ϣ
-	 * @return ϣֵ
+	 * 计算对象在指定哈希表容量下的哈希值
+	 * @param val 对象
+	 * @param capacity 哈希表容量
+	 * @return 哈希值
 	 */
 	public static int hashCode(Object val, int capacity) {
 		if (val != null) {
@@ -144,7 +144,7 @@ public final class HashUtil {
 	}
 
 	/**
-	 * longĹϣֵ
+	 * 计算long的哈希值
 	 * @param value
 	 * @return
 	 */
@@ -176,10 +176,10 @@ public final class HashUtil {
 	}
 
 	/**
-	 * ȡIArrayָԱĹϣֵ
-	 * @param keys IArray
-	 * @param pos 1ʼ
-	 * @param count key
+	 * 取IArray数组指定成员的哈希值
+	 * @param keys IArray数组
+	 * @param pos 索引，从1开始计数
+	 * @param count key个数
 	 * @return
 	 */
 	public int hashCode(IArray key, int pos) {
@@ -193,10 +193,10 @@ public final class HashUtil {
 	}
 	
 	/**
-	 * ȡIArrayָԱĹϣֵ
-	 * @param keys IArray
-	 * @param pos 1ʼ
-	 * @param count key
+	 * 取IArray数组指定成员的哈希值
+	 * @param keys IArray数组
+	 * @param pos 索引，从1开始计数
+	 * @param count key个数
 	 * @return
 	 */
 	public int hashCode(IArray[] keys, int pos, int count) {
@@ -214,10 +214,10 @@ public final class HashUtil {
 	}
 	
 	/**
-	 * ֵֶҼ¼
-	 * @param table ԱΪ¼
-	 * @param keys ֵ
-	 * @return λãҲ򷵻ظλ
+	 * 按多字段主键值查找记录
+	 * @param table 成员为记录
+	 * @param keys 主键值数组
+	 * @return 位置，找不到则返回负插入位置
 	 */
 	public static int bsearch_r(ListBase1 table, Object []keys) {
 		int colCount = keys.length;
@@ -245,10 +245,10 @@ public final class HashUtil {
 	}
 	
 	/**
-	 * ֵҼ¼
-	 * @param table ԱΪ¼
-	 * @param key ֵ
-	 * @return λãҲ򷵻ظλ
+	 * 按主键值查找记录
+	 * @param table 成员为记录
+	 * @param key 主键值
+	 * @return 位置，找不到则返回负插入位置
 	 */
 	public static int bsearch_r(ListBase1 table, Object key) {
 		int low = 1, high = table.size();
@@ -271,10 +271,10 @@ public final class HashUtil {
 	}
 
 	/**
-	 * ֵ
-	 * @param table ԱΪ
-	 * @param key ֵ
-	 * @return λãҲ򷵻ظλ
+	 * 按主键值查找数组
+	 * @param table 成员为数组
+	 * @param key 主键值
+	 * @return 位置，找不到则返回负插入位置
 	 */
 	public static int bsearch_a(ListBase1 table, Object key) {
 		int low = 1, high = table.size();
@@ -297,10 +297,10 @@ public final class HashUtil {
 	}
 
 	/**
-	 * ֵֶ
-	 * @param table ԱΪ
-	 * @param keys ֵ
-	 * @return λãҲ򷵻ظλ
+	 * 按多字段主键值查找数组
+	 * @param table 成员为数组
+	 * @param keys 主键值数组
+	 * @return 位置，找不到则返回负插入位置
 	 */
 	public static int bsearch_a(ListBase1 table, Object []keys, int count) {
 		int low = 1, high = table.size();
@@ -327,10 +327,10 @@ public final class HashUtil {
 	}
 
 	/**
-	 * ֵ
-	 * @param table ԱΪУҵһԱֵָ
-	 * @param key ֵ
-	 * @return λãҲ򷵻ظλ
+	 * 按值查找组序列
+	 * @param table 成员为序列，找第一个成员等于指定值的序列
+	 * @param key 值
+	 * @return 位置，找不到则返回负插入位置
 	 */
 	public static int bsearch_g(ListBase1 table, Object key) {
 		int low = 1, high = table.size();
@@ -353,8 +353,8 @@ public final class HashUtil {
 	}
 	
 	/**
-	 * ȡȵǰСһϣĶλ
-	 * @return 
+	 * 取比当前容量小一个的容量，用于外存哈希分组的二次汇总
+	 * @return 容量
 	 */
 	public int getPrevCapacity() {
 		int capacity = this.capacity;
@@ -20,25 +20,25 @@ import org.apache.http.util.EntityUtils;
 
 import com.scudata.common.RQException;
 
-//˵urlļ
+//向服务器端的url上载文件
 public class HttpUpload {
 	
-	//ļurl
+	//上载文件的url
 	private String url;
 	
-	//ʱҪ͵Ĳ
+	//上载时要传送的参数
 	private Hashtable<String,String> params;
 	
-	//صļ
+	//上载的文件参数名
 	private ArrayList<String> fileArgs;
 	
-	//صļ·
+	//上载的文件路径
 	private ArrayList<String> filePaths;
 	
-	//صļֽ
+	//上载的文件字节
 	private ArrayList<byte[]> fileBytes;
 	
-	//غ󷵻ؽݵı
+	//上载后返回结果内容的编码
 	private String resultEncoding = "UTF-8";  
 	
 	public HttpUpload( String url ) {
@@ -50,7 +50,7 @@ public class HttpUpload {
 	}
 	
 	/**
-	 * ÷ݵı
+	 * 设置返回内容的编码
 	 * @param encoding
 	 */
 	public void setResultEncoding( String encoding ) {
@@ -58,7 +58,7 @@ public class HttpUpload {
 	}
 	
 	/**
-	 * һ
+	 * 添加一个参数
 	 * @param paramName
 	 * @param paramValue
 	 */
@@ -67,9 +67,9 @@ public class HttpUpload {
 	}
 	
 	/**
-	 * һļ
-	 * @param fileArg    ļ
-	 * @param filePath   ļ·
+	 * 添加一个上载文件
+	 * @param fileArg    文件参数名
+	 * @param filePath   文件路径
 	 */
 	public void addFile( String fileArg, String filePath ) {
 		fileArgs.add( fileArg );
@@ -78,9 +78,9 @@ public class HttpUpload {
 	}
 	
 	/**
-	 * һļ
-	 * @param fileArg   ļ
-	 * @param b         ļֽ
+	 * 添加一个上载文件
+	 * @param fileArg   文件参数名
+	 * @param b         文件字节
 	 */
 	public void addFile( String fileArg, byte[] b ) {
 		fileArgs.add( fileArg );
@@ -89,8 +89,8 @@ public class HttpUpload {
 	}
 	
 	/**
-	 * ʵļ
-	 * @return    ؽ
+	 * 实现文件上载
+	 * @return    返回上载结果
 	 * @throws Throwable
 	 */
 	public String upload() {
@@ -101,8 +101,8 @@ public class HttpUpload {
 			httpClient = HttpClientBuilder.create().build();
 			httpPost = new HttpPost( url );
 			MultipartEntityBuilder builder = MultipartEntityBuilder.create();
-			builder.setCharset( Charset.forName( "UTF-8" ) );//ıʽ
-			builder.setMode(HttpMultipartMode.BROWSER_COMPATIBLE);//ģʽ
+			builder.setCharset( Charset.forName( "UTF-8" ) );//设置请求的编码格式
+			builder.setMode(HttpMultipartMode.BROWSER_COMPATIBLE);//设置浏览器兼容模式
 			for( int i = 0; i < fileArgs.size(); i++ ) {
 				byte[] b = fileBytes.get( i );
 				if( b == null ) {
@@ -115,10 +115,10 @@ public class HttpUpload {
 			Enumeration<String> em = params.keys();
 			while( em.hasMoreElements() ) {
 				String arg = em.nextElement();
-				builder.addPart( arg, new StringBody( params.get( arg ), ContentType.create( HTTP.PLAIN_TEXT_TYPE, HTTP.UTF_8) ) );//
+				builder.addPart( arg, new StringBody( params.get( arg ), ContentType.create( HTTP.PLAIN_TEXT_TYPE, HTTP.UTF_8) ) );//设置请求参数
 			}
-			HttpEntity entity = builder.build();//  HTTP POST ʵ  	
-			httpPost.setEntity( entity ); //ʵ
+			HttpEntity entity = builder.build();// 生成 HTTP POST 实体  	
+			httpPost.setEntity( entity ); //设置请求实体
 			HttpResponse response = httpClient.execute(httpPost);
 			if( null != response && response.getStatusLine().getStatusCode() == 200) {
 				HttpEntity resEntity = response.getEntity();
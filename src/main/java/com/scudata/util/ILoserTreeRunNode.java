@@ -0,0 +1,20 @@
+package com.scudata.util;
+
+import com.scudata.array.IArray;
+
+/**
+ * 可以成批弹出数据的归并路，当前路连续胜出时一次弹出多个元素，不必每个元素都调整败者树
+ * @author RunQian
+ *
+ */
+public interface ILoserTreeRunNode extends ILoserTreeNode {
+	/**
+	 * 从当前元素开始弹出不大于挑战者当前元素的连续元素，最多弹出n个，至少弹出一个
+	 * @param challenger 其它路中当前元素最小的路，为空表示只剩当前路
+	 * @param isPrior 与挑战者相等时当前路是否优先
+	 * @param result 弹出的元素追加到此数组
+	 * @param n 最多弹出的数量
+	 * @return 弹出的数量
+	 */
+	int popRun(ILoserTreeNode challenger, boolean isPrior, IArray result, int n);
+}
@@ -1,9 +1,11 @@
 package com.scudata.util;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
 
 import com.scudata.array.IArray;
-import com.scudata.common.Escape;
+import com.scudata.common.RQException;
 import com.scudata.common.Sentence;
 import com.scudata.common.StringUtils;
 import com.scudata.dm.BaseRecord;
@@ -11,8 +13,7 @@ import com.scudata.dm.DataStruct;
 import com.scudata.dm.Record;
 import com.scudata.dm.Sequence;
 import com.scudata.dm.Table;
-
-import java.util.ArrayList;
+import com.scudata.dm.cursor.ICursor;
 
 public final class JSONUtil {
 	private static int scanQuotation(char []chars, int start, int end) {
@@ -64,12 +65,12 @@ public final class JSONUtil {
 	/**
 	 * v1,v2...
 	 * @param chars
-	 * @param start ֵʼλã
-	 * @param end ֵĽλã
+	 * @param start 值的起始位置，包含
+	 * @param end 值的结束位置，包含
 	 * @return Sequence
 	 */
 	private static Sequence parseSequence(char []chars, int start, int end, String opt) {
-		// ǰĿհ
+		// 跳过前面的空白
 		for (; start <= end && Character.isWhitespace(chars[start]); ++start) {
 		}
 		
@@ -84,7 +85,7 @@ public final class JSONUtil {
 				Object value = parseJSON(chars, start, index - 1, opt);
 				sequence.add(value);
 				
-				// źĿհ
+				// 跳过逗号后的空白
 				for (start = index + 1; start <= end && Character.isWhitespace(chars[start]); ++start) {
 				}
 
@@ -95,13 +96,23 @@ public final class JSONUtil {
 			}
 		}
 		
+		return toTable(sequence, opt);
+	}
+	
+	/**
+	 * 如果序列是纯排列则转为序表，有t选项时不纯的排列对齐成序表
+	 * @param sequence 解析出的序列
+	 * @param opt t：排列结构不纯时将对齐成序表
+	 * @return Sequence
+	 */
+	public static Sequence toTable(Sequence sequence, String opt) {
 		if (!sequence.isPmt()) {
 			return sequence;
 		}
 		
 		DataStruct ds = sequence.dataStruct();
 		if (ds != null) {
-			// ǴתΪ
+			// 如果是纯排列则转为序表
 			int len = sequence.length();
 			Table table = new Table(ds, len);
 			IArray memes = table.getMems();
@@ -113,7 +124,7 @@ public final class JSONUtil {
 			
 			return table;
 		} else if (opt != null && opt.indexOf('t') != -1) {
-			// Ľṹж
+			// 不纯的结构进行对齐
 			ArrayList<String> nameList = new ArrayList<String>();
 			int len = sequence.length();
 			for (int i = 1; i <= len; ++i) {
@@ -155,8 +166,8 @@ public final class JSONUtil {
 	/**
 	 * n1:v1,n2:v2...
 	 * @param chars
-	 * @param start ֵʼλã
-	 * @param end ֵĽλã
+	 * @param start 值的起始位置，包含
+	 * @param end 值的结束位置，包含
 	 * @return BaseRecord
 	 */
 	private static BaseRecord parseRecord(char []chars, int start, int end, String opt) {
@@ -203,11 +214,11 @@ public final class JSONUtil {
 	}
 	
 	/**
-	 * jsonʽַŻŲƥ򷵻null
-	 * @param chars [{F:v,},]
+	 * 解析json格式字符串，如果中括号或花括号不匹配则返回null
+	 * @param chars [{F:v,…},…]
 	 * @param start
 	 * @param end
-	 * @param opt tнṹʱ
+	 * @param opt t：排列结构不纯时将对齐成序表
 	 * @return
 	 */
 	public static Object parseJSON(char []chars, int start, int end, String opt) {
@@ -238,8 +249,8 @@ public final class JSONUtil {
 	}
 	
 	/**
-	 * jsonʽַŻŲƥ򷵻null
-	 * @param chars [{F:v,},]
+	 * 解析json格式字符串，如果中括号或花括号不匹配则返回null
+	 * @param chars [{F:v,…},…]
 	 * @param start
 	 * @param end
 	 * @return
@@ -249,73 +260,152 @@ public final class JSONUtil {
 	}
 	
 	public static void toJSON(Object obj, StringBuffer sb) {
+		try {
+			writeJSON(obj, sb);
+		} catch (IOException e) {
+			// StringBuffer不会抛出异常
+			throw new RQException(e.getMessage(), e);
+		}
+	}
+	
+	public static String toJSON(Sequence seq) {
+		StringBuffer sb = new StringBuffer(1024);
+		toJSON(seq, sb);
+		return sb.toString();
+	}
+	
+	public static String toJSON(BaseRecord r) {
+		StringBuffer sb = new StringBuffer(1024);
+		toJSON(r, sb);
+		return sb.toString();
+	}
+	
+	/**
+	 * 把对象按json格式写出，串直接写到输出中，不产生中间串
+	 * @param obj 记录、序列或其它值
+	 * @param out 输出，可以是Writer或StringBuffer等
+	 * @throws IOException
+	 */
+	public static void writeJSON(Object obj, Appendable out) throws IOException {
 		if (obj == null) {
-			sb.append("null");
+			out.append("null");
 		} else if (obj instanceof BaseRecord) {
 			BaseRecord r = (BaseRecord)obj;
 			String []names = r.getFieldNames();
 			Object []vals = r.getFieldValues();
-			sb.append('{');
+			out.append('{');
 			for (int f = 0, fcount = vals.length; f < fcount; ++f) {
-				if (f > 0) sb.append(',');
+				if (f > 0) out.append(',');
 				
-				// ŵĻҳ
-				sb.append(Escape.addEscAndQuote(names[f]));
-				sb.append(':');
-				toJSON(vals[f], sb);
+				// 中文名不加引号的话网页报错
+				writeString(names[f], out);
+				out.append(':');
+				writeJSON(vals[f], out);
 			}
 
-			sb.append('}');
+			out.append('}');
 		} else if (obj instanceof Sequence) {
 			IArray mems = ((Sequence)obj).getMems();
-			sb.append('[');
+			out.append('[');
 			for (int i = 1, len = mems.size(); i <= len; ++i) {
-				if (i > 1) sb.append(',');
-				toJSON(mems.get(i), sb);
+				if (i > 1) out.append(',');
+				writeJSON(mems.get(i), out);
 			}
 
-			sb.append(']');
+			out.append(']');
 		} else if (obj instanceof String) {
-			sb.append(Escape.addEscAndQuote((String)obj));
+			writeString((String)obj, out);
 		} else if (obj instanceof Date) {
-			String str = Variant.toString(obj);
-			sb.append(Escape.addEscAndQuote(str));
+			writeString(Variant.toString(obj), out);
 		} else {
-			sb.append(Variant.toString(obj));
+			out.append(Variant.toString(obj));
 		}
 	}
 	
-	public static String toJSON(Sequence seq) {
-		StringBuffer sb = new StringBuffer(1024);
-		IArray mems = ((Sequence)seq).getMems();
-		sb.append('[');
+	/**
+	 * 把游标的数据按json数组格式写出，每次从游标取一批数据写出
+	 * @param cursor 游标
+	 * @param out 输出
+	 * @throws IOException
+	 */
+	public static void writeJSON(ICursor cursor, Appendable out) throws IOException {
+		out.append('[');
+		boolean isFirst = true;
+		while (true) {
+			Sequence seq = cursor.fetch(ICursor.FETCHCOUNT);
+			if (seq == null || seq.length() == 0) {
+				break;
+			}
+			
+			IArray mems = seq.getMems();
+			for (int i = 1, len = mems.size(); i <= len; ++i) {
+				if (isFirst) {
+					isFirst = false;
+				} else {
+					out.append(',');
+				}
+				
+				writeJSON(mems.get(i), out);
+			}
+		}
 		
-		for (int i = 1, len = mems.size(); i <= len; ++i) {
-			if (i > 1) sb.append(',');
-			toJSON(mems.get(i), sb);
+		out.append(']');
+	}
+	
+	/**
+	 * 把游标的数据按每行一个json值的格式写出，每次从游标取一批数据写出
+	 * @param cursor 游标
+	 * @param out 输出
+	 * @throws IOException
+	 */
+	public static void writeJSONLines(ICursor cursor, Appendable out) throws IOException {
+		while (true) {
+			Sequence seq = cursor.fetch(ICursor.FETCHCOUNT);
+			if (seq == null || seq.length() == 0) {
+				break;
+			}
+			
+			IArray mems = seq.getMems();
+			for (int i = 1, len = mems.size(); i <= len; ++i) {
+				writeJSON(mems.get(i), out);
+				out.append('\n');
+			}
 		}
-
-		sb.append(']');
-		return sb.toString();
 	}
 	
-	public static String toJSON(BaseRecord r) {
-		StringBuffer sb = new StringBuffer(1024);
-		String []names = r.getFieldNames();
-		Object []vals = r.getFieldValues();
-		sb.append('{');
-		
-		for (int f = 0, fcount = vals.length; f < fcount; ++f) {
-			if (f > 0) sb.append(',');
+	// 加上双引号并对特殊字符转义后写出，跟Escape.addEscAndQuote的结果相同
+	private static void writeString(String str, Appendable out) throws IOException {
+		out.append('"');
+		int start = 0;
+		for (int i = 0, len = str.length(); i < len; ++i) {
+			char c = str.charAt(i);
+			char esc;
+			switch (c) {
+			case '\t':
+				esc = 't';
+				break;
+			case '\r':
+				esc = 'r';
+				break;
+			case '\n':
+				esc = 'n';
+				break;
+			case '"':
+			case '\\':
+				esc = c;
+				break;
+			default:
+				continue;
+			}
 			
-			// ŵĻҳ
-			sb.append(Escape.addEscAndQuote(names[f]));
-			sb.append(':');
-			toJSON(vals[f], sb);
+			out.append(str, start, i);
+			out.append('\\');
+			out.append(esc);
+			start = i + 1;
 		}
-
-		sb.append('}');
-		return sb.toString();
+		
+		out.append(str, start, str.length());
+		out.append('"');
 	}
 	
 	private static Object parse(String s) {
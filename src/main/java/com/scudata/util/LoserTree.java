@@ -1,18 +1,24 @@
 package com.scudata.util;
 
+import com.scudata.array.IArray;
+import com.scudata.dm.Sequence;
+
 /**
- * ݵĶ·鲢ÿһ·Ϊһڵ
+ * 败者树，用于有序数据的多路归并，每一路为树的一个节点
  * @author RunQian
  *
  */
 public class LoserTree {
+	private static final int SKIP_RUN_COUNT = 64; // 胜出的路只取出一个时，接下来多少次不找挑战者
+	
 	private ILoserTreeNode []nodes;
 	private int []tree;
 	private int size;
+	private int skipRunCount; // 剩余的不找挑战者的次数
 	
 	/**
-	 * ָĽڵ㹹·αÿһ·һڵ
-	 * @param nodes ڵ
+	 * 用指定的节点构建败者树，多路游标的每一路当做一个节点
+	 * @param nodes 节点
 	 */
 	public LoserTree(ILoserTreeNode []nodes) {
 		int q = 0;
@@ -32,7 +38,7 @@ public class LoserTree {
 		init();
 	}
 	
-	// ʼ
+	// 初始化，构建败者树
 	private void init() {
 		int size = this.size;
 		for (int i = 0; i < size; ++i) {
@@ -54,16 +60,20 @@ public class LoserTree {
 				tree[t] = s;
 				tree[0] = -1;
 				return;
-			} else if (nodes[s].compareTo(nodes[p]) > 0) {
-				tree[t] = s;
-				s = p;
+			} else {
+				int cmp = nodes[s].compareTo(nodes[p]);
+				if (cmp > 0 || (cmp == 0 && s > p)) {
+					// 同值的先取前面成员的
+					tree[t] = s;
+					s = p;
+				}
 			}
 		}
 		
 		tree[0] = s;
 	}
 	
-	// sڵֵı䣬
+	// s节点值发生改变，重新
 	private void adjust(int s) {
 		ILoserTreeNode []nodes = this.nodes;
 		int []tree = this.tree;
@@ -72,7 +82,7 @@ public class LoserTree {
 			p = tree[t];
 			int cmp = nodes[s].compareTo(nodes[p]);
 			if (cmp > 0 || (cmp == 0 && s > p)) {
-				// ֵͬȡǰԱ
+				// 同值的先取前面成员的
 				tree[t] = s;
 				s = p;
 			}
@@ -82,15 +92,15 @@ public class LoserTree {
 	}
 	
 	/**
-	 * Ƿ
-	 * @return trueУfalseû
+	 * 返回是否还有数据
+	 * @return true：有，false：没有
 	 */
 	public boolean hasNext() {
 		return size > 0;
 	}
 	
 	/**
-	 * С
+	 * 弹出最小的数据
 	 * @return
 	 */
 	public Object pop() {
@@ -99,12 +109,80 @@ public class LoserTree {
 		if (nodes[p].hasNext()) {
 			adjust(p);
 		} else {
-			size--;
-			int size = this.size;
-			System.arraycopy(nodes, p + 1, nodes, p, size - p);
-			init();
+			remove(p);
 		}
 		
 		return obj;
 	}
+	
+	/**
+	 * 弹出最小的n个数据追加到序列中，胜出的路连续胜出时一次取出多个，不再逐个调整败者树
+	 * @param result 结果序列
+	 * @param n 数量
+	 * @return 弹出的数量
+	 */
+	public int pop(Sequence result, int n) {
+		IArray mems = result.getMems();
+		ILoserTreeNode []nodes = this.nodes;
+		int count = 0;
+		
+		while (count < n && size > 0) {
+			int p = tree[0];
+			ILoserTreeNode node = nodes[p];
+			if (node instanceof ILoserTreeRunNode) {
+				if (skipRunCount > 0) {
+					// 最近各路交替胜出，暂时不找挑战者
+					skipRunCount--;
+					count += ((ILoserTreeRunNode)node).popRun(null, true, mems, 1);
+				} else {
+					int c = getChallenger(p);
+					int runLen = ((ILoserTreeRunNode)node).popRun(c == -1 ? null : nodes[c], p < c, mems, n - count);
+					if (runLen == 1 && c != -1) {
+						skipRunCount = SKIP_RUN_COUNT;
+					}
+					
+					count += runLen;
+				}
+			} else {
+				mems.add(node.popCurrent());
+				count++;
+			}
+			
+			if (node.hasNext()) {
+				adjust(p);
+			} else {
+				remove(p);
+			}
+		}
+		
+		return count;
+	}
+	
+	// 取胜者路径上的败者中最小的，即除胜者外当前元素最小的路，只有一路时返回-1
+	private int getChallenger(int p) {
+		ILoserTreeNode []nodes = this.nodes;
+		int []tree = this.tree;
+		int c = -1;
+		for (int t = (p + size) / 2; t > 0; t /= 2) {
+			int q = tree[t];
+			if (c == -1) {
+				c = q;
+			} else {
+				int cmp = nodes[q].compareTo(nodes[c]);
+				if (cmp < 0 || (cmp == 0 && q < c)) {
+					c = q;
+				}
+			}
+		}
+		
+		return c;
+	}
+	
+	// 删除数据已取完的节点
+	private void remove(int p) {
+		size--;
+		int size = this.size;
+		System.arraycopy(nodes, p + 1, nodes, p, size - p);
+		init();
+	}
 }
\ No newline at end of file
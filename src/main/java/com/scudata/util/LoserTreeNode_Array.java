@@ -0,0 +1,141 @@
+package com.scudata.util;
+
+import com.scudata.array.IArray;
+import com.scudata.dm.Sequence;
+import com.scudata.dm.cursor.ICursor;
+
+/**
+ * 成批读取游标数据的归并路，每批数据的归并字段值先算成数组，比较时直接比较数组成员
+ * 归并字段是整数、长整数、日期或串时数组是基本类型的，比较不需要装箱
+ * @author RunQian
+ *
+ */
+public abstract class LoserTreeNode_Array implements ILoserTreeRunNode {
+	private ICursor cs;
+	private boolean isNullMin = true; // null是否当最小值
+
+	private Sequence data; // 缓存的数据
+	private IArray []keys; // 缓存的数据对应的归并字段值
+	private int keyCount; // 归并字段数
+	private int len; // 缓存的数据的数量
+	private int seq; // 当前元素在缓存中的序号，-1表示数据已取完
+
+	/**
+	 * 构建归并路，子类设置好计算归并字段值需要的成员后调用init读取第一批数据
+	 * @param cs 游标
+	 * @param isNullMin null是否当最小值
+	 */
+	protected LoserTreeNode_Array(ICursor cs, boolean isNullMin) {
+		this.cs = cs;
+		this.isNullMin = isNullMin;
+	}
+
+	/**
+	 * 读取第一批数据
+	 */
+	protected void init() {
+		fetch();
+	}
+
+	/**
+	 * 计算一批数据的归并字段值
+	 * @param data 数据
+	 * @return 每个归并字段一个数组
+	 */
+	protected abstract IArray[] calcKeys(Sequence data);
+
+	// 读取下一批数据，没有数据了则结束
+	private void fetch() {
+		Sequence data = cs == null ? null : cs.fuzzyFetch(ICursor.FETCHCOUNT_M);
+		if (data != null && data.length() > 0) {
+			this.data = data;
+			keys = calcKeys(data);
+			keyCount = keys.length;
+			len = data.length();
+			seq = 1;
+		} else {
+			this.data = null;
+			keys = null;
+			cs = null;
+			seq = -1;
+		}
+	}
+
+	public Object popCurrent() {
+		Object obj = data.getMem(seq);
+		if (seq < len) {
+			seq++;
+		} else {
+			fetch();
+		}
+
+		return obj;
+	}
+
+	public int popRun(ILoserTreeNode challenger, boolean isPrior, IArray result, int n) {
+		int start = seq;
+		int end = start + n - 1;
+		if (end > len) {
+			end = len;
+		}
+
+		// 第一个元素已经胜出，从下一个开始跟挑战者比较
+		int i = start + 1;
+		if (challenger != null) {
+			for (; i <= end; ++i) {
+				seq = i;
+				int cmp = compareTo(challenger);
+				if (cmp > 0 || (cmp == 0 && !isPrior)) {
+					break;
+				}
+			}
+		} else {
+			i = end + 1;
+		}
+
+		int count = i - start;
+		IArray mems = data.getMems();
+		result.ensureCapacity(result.size() + count);
+		for (int q = start; q < i; ++q) {
+			result.push(mems.get(q));
+		}
+
+		if (i > len) {
+			fetch();
+		} else {
+			seq = i;
+		}
+
+		return count;
+	}
+
+	public boolean hasNext() {
+		return seq != -1;
+	}
+
+	public int compareTo(ILoserTreeNode other) {
+		LoserTreeNode_Array node = (LoserTreeNode_Array)other;
+		IArray []keys = this.keys;
+		IArray []otherKeys = node.keys;
+		int seq = this.seq;
+		int otherSeq = node.seq;
+
+		if (isNullMin) {
+			for (int k = 0, keyCount = this.keyCount; k < keyCount; ++k) {
+				int cmp = keys[k].compareTo(seq, otherKeys[k], otherSeq);
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+		} else {
+			for (int k = 0, keyCount = this.keyCount; k < keyCount; ++k) {
+				int cmp = Variant.compare_0(keys[k].get(seq), otherKeys[k].get(otherSeq));
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+		}
+
+		return 0;
+	}
+}
@@ -0,0 +1,44 @@
+package com.scudata.util;
+
+import com.scudata.array.IArray;
+import com.scudata.dm.ComputeStack;
+import com.scudata.dm.Context;
+import com.scudata.dm.Current;
+import com.scudata.dm.Sequence;
+import com.scudata.dm.cursor.ICursor;
+import com.scudata.expression.Expression;
+
+/**
+ * 归并值为表达式的游标节点，每批数据整体计算归并表达式
+ * @author RunQian
+ *
+ */
+public class LoserTreeNode_Exp extends LoserTreeNode_Array {
+	private Expression []exps; // 归并表达式，每一路使用自己的复本
+	private Context ctx; // 每一路使用自己的上下文
+	
+	public LoserTreeNode_Exp(ICursor cs, Expression []exps, boolean isNullMin, Context ctx) {
+		super(cs, isNullMin);
+		this.exps = exps;
+		this.ctx = ctx;
+		init();
+	}
+	
+	protected IArray[] calcKeys(Sequence data) {
+		Expression []exps = this.exps;
+		int count = exps.length;
+		IArray []keys = new IArray[count];
+		ComputeStack stack = ctx.getComputeStack();
+		stack.push(new Current(data));
+		
+		try {
+			for (int i = 0; i < count; ++i) {
+				keys[i] = exps[i].calculateAll(ctx);
+			}
+		} finally {
+			stack.pop();
+		}
+		
+		return keys;
+	}
+}
@@ -5,29 +5,29 @@ import java.util.Comparator;
 import com.scudata.dm.comparator.BaseComparator;
 
 /**
- * ȡСnֵĶ
+ * 用于取最小的n个值的堆
  * @author WangXiaoJun
  *
  */
 public class MinHeap {
-	// (ѶԪ)ԪؽʱȸѶбȽϣȶѶ
-	private Object []heap; // ڱڵֵ0λÿ
-	private int maxSize; // ౣֵ
-	private int currentSize; // ǰеֵ
-	private Comparator<Object> comparator; // ֵȽ
+	// 大根堆(堆顶元素最大)，有新元素进来时先跟堆顶进行比较，如果比堆顶大则丢弃
+	private Object []heap; // 用于保存二叉树各个节点的值，数组0的位置空闲
+	private int maxSize; // 最多保留的值的数量
+	private int currentSize; // 当前已有的值的数量
+	private Comparator<Object> comparator; // 值比较器
 
 	/**
-	 * ȡmaxSizeСֵĶ
-	 * @param maxSize 
+	 * 构建取maxSize个最小值的堆
+	 * @param maxSize 数量
 	 */
 	public MinHeap(int maxSize) {
 		this(maxSize, new BaseComparator());
 	}
 	
 	/**
-	 * ȡmaxSizeСֵĶ
-	 * @param maxSize 
-	 * @param comparator Ƚ
+	 * 构建取maxSize个最小值的堆
+	 * @param maxSize 数量
+	 * @param comparator 比较器
 	 */
 	public MinHeap(int maxSize, Comparator<Object> comparator) {
 		this.heap = new Object[maxSize + 1];
@@ -37,17 +37,17 @@ public class MinHeap {
 	}
 
 	/**
-	 * صǰֵ
-	 * @return 
+	 * 返回当前的值数量
+	 * @return 数量
 	 */
 	public int size() {
 		return currentSize;
 	}
 
 	/**
-	 * ֵ
-	 * @param o ֵ
-	 * @return trueǰֵʱСmaxSizeֵΧڣfalseǰֵ̫󱻶
+	 * 加入新值
+	 * @param o 值
+	 * @return true：当前值暂时在最小的maxSize个值范围内，false：当前值太大被丢弃
 	 */
 	public boolean insert(Object o) {
 		Object []heap = this.heap;
@@ -61,8 +61,8 @@ public class MinHeap {
 		} else {
 			int i = ++currentSize;
 			while (i != 1 && comparator.compare(o, heap[i/2]) > 0) {
-				heap[i] = heap[i/2]; // Ԫ
-				i /= 2;              // 򸸽ڵ
+				heap[i] = heap[i/2]; // 将元素下移
+				i /= 2;              // 移向父节点
 			}
 
 			heap[i] = o;
@@ -71,7 +71,7 @@ public class MinHeap {
 	}
 	
 	/**
-	 * һѵݼӵǰ
+	 * 把另一个堆的数据加到当前堆
 	 * @param other
 	 */
 	public void insertAll(MinHeap other) {
@@ -82,19 +82,19 @@ public class MinHeap {
 	}
 
 	/**
-	 * ɾڵ
+	 * 删除根节点
 	 */
 	private void deleteRoot() {
-		// һԪطڶѶȻԶµ
+		// 把最后一个元素放在堆顶，然后自顶向下调整
 		Object []heap = this.heap;
 		int currentSize = this.currentSize;
 		Object o = heap[currentSize];
 
 		int i = 1;
-		int c = 2; // ӽڵ
+		int c = 2; // 子节点
 		while(c < currentSize) {
-			// ҳϴӽڵ
-			int rc = c + 1;  // ӽڵ
+			// 找出较大的子节点
+			int rc = c + 1;  // 右子节点
 			if (rc < currentSize && comparator.compare(heap[rc], heap[c]) > 0) {
 				c = rc;
 			}
@@ -114,8 +114,8 @@ public class MinHeap {
 	}
 
 	/**
-	 * Ԫ
-	 * @return Ԫ
+	 * 返回所有元素
+	 * @return 元素数组
 	 */
 	public Object[] toArray() {
 		Object []objs = new Object[currentSize];
@@ -125,7 +125,7 @@ public class MinHeap {
 	}
 	
 	/**
-	 * ȡѶԪ
+	 * 取堆顶元素
 	 * @return
 	 */
 	public Object getTop() {
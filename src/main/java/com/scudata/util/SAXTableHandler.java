@@ -11,22 +11,22 @@ import com.scudata.dm.Record;
 import com.scudata.dm.Sequence;
 
 /**
- * ڽXML
+ * 用于解析XML数据
  * @author RunQian
  *
  */
 class SAXTableHandler extends DefaultHandler {
-	private XMLNode root; // ڵ
+	private XMLNode root; // 根节点
 	private XMLNode node;
-	private boolean sopt; // Ƿsѡ
+	private boolean sopt; // 是否有s选项
 	
 	public SAXTableHandler(String opt) {
 		sopt = opt != null && opt.indexOf('s') != -1;
 	}
 
 	/**
-	 * ȡXMLĽ
-	 * @param levels ·ʡԴӸʼ
+	 * 取XML的解析结果
+	 * @param levels 结果集的路径，省略从根开始
 	 * @return Object
 	 */
 	public Object getResult(String []levels) {
@@ -67,8 +67,8 @@ class SAXTableHandler extends DefaultHandler {
 		int size = mems.size();
 		Sequence result = new Sequence(size);
 
-		int col = -1; // ֶһ¼
-		Record prevRecord = null; // һ¼
+		int col = -1; // 字段在上一条记录的索引
+		Record prevRecord = null; // 上一条记录
 
 		for (int i = 1; i <= size; ++i) {
 			Object obj = mems.get(i);
@@ -23,7 +23,7 @@ import com.scudata.dm.SerialBytes;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ࣬ṩַ֮໥ͣȽϣѧ㣬
+ * 工具类，提供对象、字符串之间相互类型，对象比较，数学运算，日期运算等
  * @author RunQian
  *
  */
@@ -32,13 +32,13 @@ public class Variant {
 	public static final int Divide_Scale = 16;
 	public static final int Divide_Round = BigDecimal.ROUND_HALF_UP;
 
-	// ڴпܴڵֵ
+	// 内存中可能存在的数值型数据类型
 	public static final int DT_INT = 1; // Integer
 	public static final int DT_LONG = 2; // Long
 	public static final int DT_DOUBLE = 3; // Double
 	public static final int DT_DECIMAL = 4; // BigDecimal
 
-	static final long BASEDATE; // 1992֮ǰеڲܱ86400000
+	static final long BASEDATE; // 1992年之前有的日期不能被86400000整除
 	static {
 		Calendar calendar = Calendar.getInstance();
 		calendar.set(2000, java.util.Calendar.JANUARY, 1, 0, 0, 0);
@@ -47,27 +47,27 @@ public class Variant {
 	}
 
 	/**
-	 * ضǷΪ棬ΪҲfalseΪ
-	 * @param o 
-	 * @return trueΪ棬falseΪ
+	 * 返回对象是否为真，对象不为空且不是false则为真
+	 * @param o 对象
+	 * @return true：对象为真，false：对象为假
 	 */
 	public static boolean isTrue(Object o) {
 		return o != null && (!(o instanceof Boolean) || ((Boolean)o).booleanValue());
 	}
 
 	/**
-	 * ضǷΪ٣ΪջΪfalseΪ
-	 * @param o 
-	 * @return trueΪ٣falseΪ
+	 * 返回对象是否为假，对象为空或者为false则为假
+	 * @param o 对象
+	 * @return true：对象为假，false：对象为真
 	 */
 	public static boolean isFalse(Object o) {
 		return o == null || ((o instanceof Boolean) && !((Boolean)o).booleanValue());
 	}
 
 	/**
-	 * ָָ
-	 * @param date 
-	 * @param n 
+	 * 计算指定日期相隔指定天数的日期
+	 * @param date 日期
+	 * @param n 天数
 	 * @return Date
 	 */
 	public static Date add(Date date, int n) {
@@ -81,9 +81,9 @@ public class Variant {
 	}
 	
 	/**
-	 * o1o2ĺ
-	 * @param o1 Object NumberString
-	 * @param o2 Object NumberString
+	 * 返回o1和o2的和
+	 * @param o1 Object Number或String
+	 * @param o2 Object Number或String
 	 * @return Object
 	 */
 	public static Object add(Object o1, Object o2) {
@@ -134,7 +134,7 @@ public class Variant {
 	}
 
 	/**
-	 * ĺ
+	 * 返回两个数的和
 	 * @param n1
 	 * @param n2
 	 * @return
@@ -142,7 +142,7 @@ public class Variant {
 	public static Number addNum(Number n1, Number n2) {
 		int type = getMaxNumberType(n1, n2);
 		switch (type) {
-		case DT_INT: // Ϊ˷ֹתlong
+		case DT_INT: // 为了防止溢出转成long计算
 			//return new Integer(n1.intValue() + n2.intValue());
 		case DT_LONG:
 			return new Long(n1.longValue() + n2.longValue());
@@ -156,7 +156,7 @@ public class Variant {
 	}
 
 	/**
-	 * Ѷֵ1
+	 * 把对象值加1
 	 * @param o1 Object
 	 * @return Object
 	 */
@@ -164,7 +164,7 @@ public class Variant {
 		if (o1 == null) return new Integer(1);
 		int type = getNumberType(o1);
 		switch (type) {
-		case DT_INT: // Ϊ˷ֹתlong
+		case DT_INT: // 为了防止溢出转成long计算
 			//return new Integer(((Number)o1).intValue() + 1);
 		case DT_LONG:
 			return new Long(((Number)o1).longValue() + 1);
@@ -178,7 +178,7 @@ public class Variant {
 	}
 
 	/**
-	 * o1 - o2
+	 * 返回o1 - o2
 	 * @param o1 Object Number
 	 * @param o2 Object Number
 	 * @return Object
@@ -226,7 +226,7 @@ public class Variant {
 	}
 
 	/**
-	 * ضƽ
+	 * 返回对象的平方
 	 * @param obj Object
 	 * @return Object
 	 */
@@ -253,7 +253,7 @@ public class Variant {
 	}
 
 	/**
-	 * o1 * o2
+	 * 返回o1 * o2
 	 * @param o1 Object
 	 * @param o2 Object
 	 * @return Object
@@ -263,7 +263,7 @@ public class Variant {
 			if (o2 instanceof Number) {
 				int type = getMaxNumberType(o1, o2);
 				switch (type) {
-				case DT_INT: // Ϊ˷ֹתlong
+				case DT_INT: // 为了防止溢出转成long计算
 				case DT_LONG:
 					return new Long(((Number)o1).longValue() * ((Number)o2).longValue());
 				case DT_DOUBLE:
@@ -295,9 +295,9 @@ public class Variant {
 	}
 
 	/**
-	 * ȡ
-	 * @param o1 ֵ
-	 * @param o2 ֵ
+	 * 计算两个数的取余
+	 * @param o1 左值
+	 * @param o2 右值
 	 * @return Object
 	 */
 	public static Object mod(Object o1, Object o2) {
@@ -323,9 +323,9 @@ public class Variant {
 	}
 	
 	/**
-	 * ȡ
-	 * @param n1 ֵ
-	 * @param n2 ֵ
+	 * 计算两个数的取余
+	 * @param n1 左值
+	 * @param n2 右值
 	 * @return Number
 	 */
 	public static Number mod(Number n1, Number n2) {
@@ -343,9 +343,9 @@ public class Variant {
 	}
 	
 	/**
-	 * remainderȡ
-	 * @param o1 ֵ
-	 * @param o2 ֵ
+	 * 用于remainder函数，对两个数做取余运算
+	 * @param o1 左面数值
+	 * @param o2 右面数值
 	 * @return Number
 	 */
 	public static Number remainder(Object o1, Object o2) {
@@ -365,10 +365,10 @@ public class Variant {
 					}
 				} else {
 					if (left >= 0) {
-						int x = left %(right * 2); // õ
+						int x = left %(right * 2); // 得到正数
 						return x < -right ? x : x + right * 2;
 					} else {
-						int x = left %(right * 2); // õ
+						int x = left %(right * 2); // 得到负数
 						return x < right ? x - right * 2 : x;
 					}
 				}
@@ -384,10 +384,10 @@ public class Variant {
 					}
 				} else {
 					if (left >= 0) {
-						long x = left %(right * 2); // õ
+						long x = left %(right * 2); // 得到正数
 						return x < -right ? x : x + right * 2;
 					} else {
-						long x = left %(right * 2); // õ
+						long x = left %(right * 2); // 得到负数
 						return x < right ? x - right * 2 : x;
 					}
 				}
@@ -403,10 +403,10 @@ public class Variant {
 					}
 				} else {
 					if (left >= 0) {
-						double x = left %(right * 2); // õ
+						double x = left %(right * 2); // 得到正数
 						return x > -right || isRoughlyEquals(x, -right) ? x + right * 2 : x;
 					} else {
-						double x = left %(right * 2); // õ
+						double x = left %(right * 2); // 得到负数
 						return x < right && !isRoughlyEquals(x, right) ? x - right * 2 : x;
 					}
 				}
@@ -418,21 +418,21 @@ public class Variant {
 							  getDataType(o2) + mm.getMessage("Variant2.illMod"));
 	}
 
-	// жǷ
+	// 判断两个浮点数是否大概相等
 	private static boolean isRoughlyEquals(double d1, double d2) {
 		d1 -= d2;
 		return d1 > -0.0000001 && d1 < 0.0000001;
 	}
 
 	/**
-	 * o1 / o2
+	 * 返回o1 / o2
 	 * @param o1 Object Number
 	 * @param o2 Object Number
 	 * @return Object
 	 */
 	public static Object divide(Object o1, Object o2) {
 		if (o1 instanceof Number && o2 instanceof Number) {
-			// ͬͬ
+			// 被除数不同结果不同
 			//if (((Number)o2).doubleValue() == 0) {
 			//	return INFINITY;
 			//}
@@ -473,10 +473,10 @@ public class Variant {
 	}
 
 	/**
-	 * ƽֵ
-	 * @param sum 
-	 * @param count 
-	 * @return ƽֵ
+	 * 求平均值
+	 * @param sum 和
+	 * @param count 数量
+	 * @return 平均值
 	 */
 	public static Object avg(Object sum, int count) {
 		if (sum instanceof BigDecimal) {
@@ -495,9 +495,9 @@ public class Variant {
 	}
 
 	/**
-	 * 
-	 * @param o1 ֵ
-	 * @param o2 ֵ
+	 * 返回两个数的整除
+	 * @param o1 左值
+	 * @param o2 右值
 	 * @return Number
 	 */
 	public static Number intDivide(Object o1, Object o2) {
@@ -522,9 +522,9 @@ public class Variant {
 	}
 	
 	/**
-	 * ֵ
-	 * @param n1 ֵ
-	 * @param n2 ֵ
+	 * 返回两个数的整除值
+	 * @param n1 左值
+	 * @param n2 右值
 	 * @return Number
 	 */
 	public static Number intDivide(Number n1, Number n2) {
@@ -541,7 +541,7 @@ public class Variant {
 	}
 
 	/**
-	 * oľֵ
+	 * 求o的绝对值
 	 * @param o Object
 	 * @return Object
 	 */
@@ -587,20 +587,20 @@ public class Variant {
 	}
 
 	/**
-	 * ȽĴСܱȽʱ׳쳣nullС
-	 * @param o1 
-	 * @param o2 Ҷ
-	 * @return 10ͬ-1Ҷ
+	 * 比较两个对象的大小，不能比较时抛出异常，null最小
+	 * @param o1 左对象
+	 * @param o2 右对象
+	 * @return 1：左对象大，0：同样大，-1：右对象大
 	 */
 	public static int compare(Object o1, Object o2) {
 		return compare(o1, o2, true);
 	}
 
 	/**
-	 * ȽԪصĴСԪͬnullС
-	 * @param o1 
-	 * @param o2 
-	 * @return 10ͬ-1Ҷ
+	 * 比较两个数组元素的大小，数组元素数须相同，null最小
+	 * @param o1 左数组
+	 * @param o2 右数组
+	 * @return 1：左对象大，0：同样大，-1：右对象大
 	 */
 	public static int compareArrays(Object []o1, Object []o2) {
 		for (int i = 0, len = o1.length; i < len; ++i) {
@@ -612,10 +612,10 @@ public class Variant {
 	}
 	
 	/**
-	 * ȽԪصĴСԪͬnull
-	 * @param o1 
-	 * @param o2 
-	 * @return 10ͬ-1
+	 * 比较两个数组元素的大小，数组元素数须相同，null当最大处理
+	 * @param o1 左数组
+	 * @param o2 右数组
+	 * @return 1：左数组大，0：同样大，-1：右数组大
 	 */
 	public static int compareArrays_0(Object []o1, Object []o2) {
 		for (int i = 0, len = o1.length; i < len; ++i) {
@@ -629,11 +629,11 @@ public class Variant {
 	}
 	
 	/**
-	 * ȽԪصĴСnull
-	 * @param o1 
-	 * @param o2 
-	 * @param len 
-	 * @return 10ͬ-1
+	 * 比较两个数组元素的大小，null当最大处理
+	 * @param o1 左数组
+	 * @param o2 右数组
+	 * @param len 长度
+	 * @return 1：左数组大，0：同样大，-1：右数组大
 	 */
 	public static int compareArrays_0(Object []o1, Object []o2, int len) {
 		for (int i = 0; i < len; ++i) {
@@ -647,12 +647,12 @@ public class Variant {
 	}
 	
 	/**
-	 * ȽԪصĴСnull
-	 * @param o1 
-	 * @param o2 
-	 * @param len 
-	 * @param  locCmp ַԱȽ
-	 * @return 10ͬ-1
+	 * 比较两个数组元素的大小，null当最大处理
+	 * @param o1 左数组
+	 * @param o2 右数组
+	 * @param len 长度
+	 * @param  locCmp 字符串本地语言比较器
+	 * @return 1：左数组大，0：同样大，-1：右数组大
 	 */
 	public static int compareArrays_0(Object []o1, Object []o2, int len, Comparator<Object> locCmp) {
 		for (int i = 0; i < len; ++i) {
@@ -666,12 +666,12 @@ public class Variant {
 	}
 	
 	/**
-	 * ȽԪصĴСnullС
-	 * @param o1 
-	 * @param o2 
-	 * @param len 
-	 * @param  locCmp ַԱȽ
-	 * @return 10ͬ-1
+	 * 比较两个数组元素的大小，null最小
+	 * @param o1 左数组
+	 * @param o2 右数组
+	 * @param len 长度
+	 * @param  locCmp 字符串本地语言比较器
+	 * @return 1：左数组大，0：同样大，-1：右数组大
 	 */
 	public static int compareArrays(Object []o1, Object []o2, int len, Comparator<Object> locCmp) {
 		for (int i = 0; i < len; ++i) {
@@ -685,11 +685,11 @@ public class Variant {
 	}
 
 	/**
-	 * ȽԪصĴСnullС
-	 * @param o1 
-	 * @param o2 
-	 * @param len 
-	 * @return 10ͬ-1
+	 * 比较两个数组元素的大小，null最小
+	 * @param o1 左数组
+	 * @param o2 右数组
+	 * @param len 长度
+	 * @return 1：左数组大，0：同样大，-1：右数组大
 	 */
 	public static int compareArrays(Object []o1, Object []o2, int len) {
 		for (int i = 0; i < len; ++i) {
@@ -701,11 +701,11 @@ public class Variant {
 	}
 
 	/**
-	 * ȽĴСnullС
-	 * @param o1 
-	 * @param o2 Ҷ
-	 * @param throwExcept trueܱȽʱ׳쳣falseܱȽʱ-1ڲ
-	 * @return int 10ͬ-1Ҷ
+	 * 比较两对象的大小，null最小
+	 * @param o1 左对象
+	 * @param o2 右对象
+	 * @param throwExcept true：不能比较时抛出异常，false：不能比较时返回-1，用于查找
+	 * @return int 1：左对象大，0：同样大，-1：右对象大
 	 */
 	public static int compare(Object o1, Object o2, boolean throwExcept) {
 		if (o1 == o2)return 0;
@@ -752,7 +752,7 @@ public class Variant {
 			return ((Sequence)o1).compareTo((Sequence)o2);
 		}
 
-		// Ϊ˱֤groupidjoinСû
+		// 为了保证group、id、join等能正常工作，但大小没意义
 		if (o1 instanceof BaseRecord && o2 instanceof BaseRecord) {
 			return ((BaseRecord)o1).compareTo((BaseRecord)o2);
 		}
@@ -778,10 +778,10 @@ public class Variant {
 	}
 
 	/**
-	 * ȽĴСܱȽʱ׳쳣null
-	 * @param o1 
-	 * @param o2 Ҷ
-	 * @return 10ͬ-1Ҷ
+	 * 比较两个对象的大小，不能比较时抛出异常，null当最大处理
+	 * @param o1 左对象
+	 * @param o2 右对象
+	 * @return 1：左对象大，0：同样大，-1：右对象大
 	 */
 	public static int compare_0(Object o1, Object o2) {
 		if (o1 == o2) return 0;
@@ -828,7 +828,7 @@ public class Variant {
 			return ((Sequence)o1).compareTo((Sequence)o2);
 		}
 		
-		// Ϊ˱֤groupidjoinСû
+		// 为了保证group、id、join等能正常工作，但大小没意义
 		if (o1 instanceof BaseRecord && o2 instanceof BaseRecord) {
 			int h1 = o1.hashCode();
 			int h2 = o2.hashCode();
@@ -871,12 +871,12 @@ public class Variant {
 	}
 	
 	/**
-	 * ȽĴСnullС
-	 * @param o1 
-	 * @param o2 Ҷ
-	 * @param  locCmp ַԱȽ
-	 * @param throwExcept trueܱȽʱ׳쳣falseܱȽʱ-1ڲ
-	 * @return int 10ͬ-1Ҷ
+	 * 比较两对象的大小，null最小
+	 * @param o1 左对象
+	 * @param o2 右对象
+	 * @param  locCmp 字符串本地语言比较器
+	 * @param throwExcept true：不能比较时抛出异常，false：不能比较时返回-1，用于查找
+	 * @return int 1：左对象大，0：同样大，-1：右对象大
 	 */
 	public static int compare(Object o1, Object o2, Comparator<Object> locCmp, boolean throwExcept) {
 		if (o1 == o2)return 0;
@@ -922,7 +922,7 @@ public class Variant {
 			return ((Sequence)o1).compareTo((Sequence)o2, locCmp);
 		}
 		
-		// Ϊ˱֤groupidjoinСû
+		// 为了保证group、id、join等能正常工作，但大小没意义
 		if (o1 instanceof BaseRecord && o2 instanceof BaseRecord) {
 			return ((BaseRecord)o1).compareTo((BaseRecord)o2);
 		}
@@ -945,11 +945,11 @@ public class Variant {
 	}
 
 	/**
-	 * ȽĴСܱȽʱ׳쳣null
-	 * @param o1 
-	 * @param o2 Ҷ
-	 * @param  locCmp ַԱȽ
-	 * @return int 10ͬ-1Ҷ
+	 * 比较两对象的大小，不能比较时抛出异常，null当最大处理
+	 * @param o1 左对象
+	 * @param o2 右对象
+	 * @param  locCmp 字符串本地语言比较器
+	 * @return int 1：左对象大，0：同样大，-1：右对象大
 	 */
 	public static int compare_0(Object o1, Object o2, Comparator<Object> locCmp) {
 		if (o1 == o2) return 0;
@@ -995,7 +995,7 @@ public class Variant {
 			return ((Sequence)o1).compareTo((Sequence)o2, locCmp);
 		}
 		
-		// Ϊ˱֤groupidjoinСû
+		// 为了保证group、id、join等能正常工作，但大小没意义
 		if (o1 instanceof BaseRecord && o2 instanceof BaseRecord) {
 			int h1 = o1.hashCode();
 			int h2 = o2.hashCode();
@@ -1022,7 +1022,7 @@ public class Variant {
 	}
 
 	/**
-	 * Ƿ
+	 * 返回两对象是否相等
 	 * @param o1 Object
 	 * @param o2 Object
 	 * @return boolean
@@ -1041,7 +1041,7 @@ public class Variant {
 				return Double.compare(((Number)o1).doubleValue(),
 									  ((Number)o2).doubleValue()) == 0;
 			case DT_DECIMAL:
-				// ʹequalsΪscaleܲͬ
+				// 不能使用equals，因为scale可能不同
 				return toBigDecimal((Number)o1).compareTo(toBigDecimal((Number)o2)) == 0;
 			default:
 				throw new RQException();
@@ -1064,7 +1064,7 @@ public class Variant {
 			return ((Sequence)o1).isEquals((Sequence)o2);
 		}
 
-		// кıȽcmp֧֣лʱ[0,0]0Ϊ
+		// 序列和数的比较在cmp函数里支持，序列化时[0,0]和0不能认为相等
 		/*if (o1 instanceof Sequence) {
 			if (o2 instanceof Sequence) {
 				return ((Sequence)o1).isEquals((Sequence)o2);
@@ -1090,9 +1090,9 @@ public class Variant {
 	}
 
 	/**
-	 * ȥСλСС1
-	 * @param o С
-	 * @return ûС
+	 * 去掉小数位，根据小数大小进1或舍弃
+	 * @param o 带小数的数
+	 * @return 没有小数的数
 	 */
 	public static Object round(Object o) {
 		if (o instanceof BigDecimal) {
@@ -1115,10 +1115,10 @@ public class Variant {
 	}
 
 	/**
-	 * ָλС
-	 * @param o 
-	 * @param scale Сλ
-	 * @return 
+	 * 保留指定位数的小数
+	 * @param o 数
+	 * @param scale 小数位数
+	 * @return 数
 	 */
 	public static Object round(Object o, int scale) {
 		if (o instanceof BigDecimal) {
@@ -1152,7 +1152,7 @@ public class Variant {
 	}
 
 	/**
-	 * ظֵ
+	 * 返回负值
 	 * @param o Object Number
 	 * @return Object
 	 */
@@ -1180,7 +1180,7 @@ public class Variant {
 	}
 	
 	/**
-	 * ظֵ
+	 * 返回负值
 	 * @param o Number
 	 * @return Number
 	 */
@@ -1201,7 +1201,7 @@ public class Variant {
 	}
 
 	/**
-	 * ַ
+	 * 对字符串求负
 	 * @param str
 	 * @return
 	 */
@@ -1215,7 +1215,7 @@ public class Variant {
 	}
 
 	/**
-	 * ַ
+	 * 对字符串求负
 	 * @param str
 	 * @return
 	 */
@@ -1261,20 +1261,20 @@ public class Variant {
 		return type1 > type2 ? type1 : type2;
 	}
 
-	// תBigDecimal
+	// 将数转成BigDecimal
 	private static BigDecimal toBigDecimal(Number o) {
 		if (o instanceof BigDecimal) {
 			return (BigDecimal)o;
 		} else if (o instanceof BigInteger) {
 			return new BigDecimal((BigInteger)o);
-		} else if (o instanceof Long) { // תdoubleܶ
+		} else if (o instanceof Long) { // 转成double可能丢精度
 			return new BigDecimal(((Long)o).longValue());
 		} else {
 			return new BigDecimal(o.doubleValue());
 		}
 	}
 	
-	// תBigInteger
+	// 将数转成BigInteger
 	public static BigInteger toBigInteger(Number o) {
 		if (o instanceof BigDecimal) {
 			return ((BigDecimal)o).toBigInteger();
@@ -1286,7 +1286,7 @@ public class Variant {
 	}
 
 	/**
-	 * תoΪString
+	 * 转换o为String类型
 	 * @param o Object
 	 * @return String
 	 */
@@ -1309,8 +1309,8 @@ public class Variant {
 	}
 
 	/**
-	 * ѶɵıʱӦĴ
-	 * @param o 
+	 * 把对象变成导出文本时对应的串
+	 * @param o 对象
 	 * @return String
 	 */
 	public static String toExportString(Object o) {
@@ -1334,9 +1334,9 @@ public class Variant {
 	}
 	
 	/**
-	 * ѶɵıʱӦĴַ
-	 * @param o 
-	 * @param escapeChar ת
+	 * 把对象变成导出文本时对应的串，字符串加引号
+	 * @param o 对象
+	 * @param escapeChar 转义符
 	 * @return String
 	 */
 	public static String toExportString(Object o, char escapeChar) {
@@ -1366,7 +1366,7 @@ public class Variant {
 	}
 
 	/**
-	 * ضǷתΪı
+	 * 返回对象是否可以转为文本
 	 * @param obj Object
 	 * @return boolean
 	 */
@@ -1377,9 +1377,9 @@ public class Variant {
 	}
 
 	/**
-	 * oһĸʽתΪַ
+	 * 将o按一定的格式转换为字符串
 	 * @param o Object
-	 * @param format תʽ
+	 * @param format 转换格式
 	 * @return String
 	 */
 	public static String format(Object o, String format) {
@@ -1424,10 +1424,10 @@ public class Variant {
 	}
 
 	/**
-	 * oһĸʽתΪַ
+	 * 将o按一定的格式转换为字符串
 	 * @param o Object
-	 * @param format תʽ
-	 * @param locale 
+	 * @param format 转换格式
+	 * @param locale 区域
 	 * @return String
 	 */
 	public static String format(Object o, String format, String locale) {
@@ -1458,7 +1458,7 @@ public class Variant {
 	}
 
 	/**
-	 *   long ʽoӦֵֵ
+	 *  以 long 形式返回o对应的整数值的数值
 	 * @param o Object
 	 * @return long
 	 */
@@ -1471,7 +1471,7 @@ public class Variant {
 	}
 
 	/**
-	 *   double ʽoӦֵ
+	 *  以 double 形式返回o对应的数值
 	 * @param o Object
 	 * @return double
 	 */
@@ -1484,7 +1484,7 @@ public class Variant {
 	}
 
 	/**
-	 * oתΪBigDecimal
+	 * 将o转换为BigDecimal
 	 * @param o Object
 	 * @return BigDecimal
 	 */
@@ -1493,7 +1493,7 @@ public class Variant {
 			return (BigDecimal) o;
 		} else if (o instanceof BigInteger) {
 			return new BigDecimal( (BigInteger) o);
-		} else if (o instanceof Long) { // תdoubleܶ
+		} else if (o instanceof Long) { // 转成double可能丢精度
 			return new BigDecimal(((Long)o).longValue());
 		} else if (o instanceof Number) {
 			return new BigDecimal(((Number)o).doubleValue());
@@ -1504,9 +1504,9 @@ public class Variant {
 	}
 
 	/**
-	 * ȥ
-	 * @param obj 
-	 * @return byte Types
+	 * 去对象的类型
+	 * @param obj 对象
+	 * @return byte 定义在Types里
 	 */
 	public static byte getObjectType(Object obj) {
 		if (obj instanceof String) {
@@ -1533,9 +1533,9 @@ public class Variant {
 	}
 
 	/**
-	 * Ѷתָ
-	 * @param val 
-	 * @param type ͣTypes
+	 * 把对象转成指定的类型
+	 * @param val 对象
+	 * @param type 类型，定义在Types里
 	 * @return
 	 */
 	public static Object convert(Object val, byte type) {
@@ -1616,7 +1616,7 @@ public class Variant {
 	}
 
 	/**
-	 * ʽתΪӦֵ
+	 * 将表达式转换为相应的值
 	 * @param text String
 	 * @return Object
 	 */
@@ -1625,9 +1625,9 @@ public class Variant {
 	}
 
 	/**
-	 * ʽתΪӦֵע⣬ַеĿոtrim
-	 * @param text String תַ
-	 * @param removeEscAndQuote boolean Ƿɾת
+	 * 将表达式转换为相应的值，注意，对于字符串，其中的空格不能trim掉
+	 * @param text String 待转换的字符串
+	 * @param removeEscAndQuote boolean 是否删除转义符和引号
 	 * @return Object
 	 */
 	public static Object parse(String text, boolean removeEscAndQuote) {
@@ -1697,8 +1697,8 @@ public class Variant {
 	}
 	
 	/**
-	 * Ϊֵtrimȥ
-	 * @param s 
+	 * 解析串为值，不做trim和去引号
+	 * @param s 串
 	 * @return Object
 	 */
 	public static Object parseDirect(String s) {
@@ -1757,11 +1757,11 @@ public class Variant {
 	}
 	
 	/**
-	 * ַָ͵Ķ
-	 * @param text ַ
-	 * @param types ÿеɵ飬Types
-	 * @param col к
-	 * @return Ķ
+	 * 把字符串解析成指定类型的对象
+	 * @param text 字符串
+	 * @param types 每列的类型组成的数组，参照Types
+	 * @param col 列号
+	 * @return 解析后的对象
 	 */
 	public static Object parse(String text, byte []types, int col) {
 		if (text == null) {
@@ -1891,9 +1891,9 @@ public class Variant {
 	}
 
 	/**
-	 * ڵԪexcelַ
-	 * @param text ַ
-	 * @return Object ֵ
+	 * 用于单元格（excel）的字符串解析
+	 * @param text 字符串
+	 * @return Object 解析后的值
 	 */
 	public static Object parseCellValue(String text) {
 		if (text == null || text.length() == 0) {
@@ -1955,7 +1955,7 @@ public class Variant {
 		return parseCellDate(text);
 	}
 
-	// ڵԪexcelڽ
+	// 用于单元格（excel）的日期解析
 	private static Object parseCellDate(String text) {
 		DateFormatFactory dff = DateFormatFactory.get();
 		Date date = dff.getDateTimeFormatX().parse(text);
@@ -2012,7 +2012,7 @@ public class Variant {
 	}
 
 	/**
-	 * ַתֵת򷵻ؿաintlongdouble
+	 * 将字符串转成数值，如果不能转换则返回空。（int，long，double）
 	 * @param s String
 	 * @return Number
 	 */
@@ -2052,7 +2052,7 @@ public class Variant {
 	}
 
 	/**
-	 * ʱתΪӦʱֵ
+	 * 将时间转为相应的时间值
 	 * @param text String
 	 * @return Object
 	 */
@@ -2070,8 +2070,8 @@ public class Variant {
 	}
 
 	/**
-	 * ȡʾϢ
-	 * @param o 
+	 * 取对象的类型名，用于提示信息
+	 * @param o 对象
 	 * @return String
 	 */
 	public static String getDataType(Object o) {
@@ -2096,10 +2096,10 @@ public class Variant {
 	}
 
 	/**
-	 * ڵԪexcelַ
-	 * @param text ַ
-	 * @param type ͣTypes
-	 * @return Object ֵ
+	 * 用于单元格（excel）的字符串解析
+	 * @param text 字符串
+	 * @param type 类型，定义在Types里
+	 * @return Object 解析后的值
 	 */
 	public static Object parseCellValue(String text, byte type) {
 		if (type == Types.DT_DEFAULT) return parseCellValue(text);
@@ -2415,9 +2415,9 @@ public class Variant {
 	}
 	
 	/**
-	 * ָָ
-	 * @param date 
-	 * @param n 
+	 * 计算指定日期相隔指定天数的日期
+	 * @param date 日期
+	 * @param n 天数
 	 * @return Date
 	 */
 	public static Date dayElapse(Calendar calendar, Date date, int n) {
@@ -2429,12 +2429,12 @@ public class Variant {
 	}
 
 	/**
-	 * ָڼָʱ
-	 * @param date 
-	 * @param diff 
-	 * @param opt ѡyλΪ꣬qλΪmλΪ£sλΪ룬msλΪ
-	 * eµףȱʡµµף@yqm
-	 * @return 
+	 * 返回指定日期间隔指定时间后的日期
+	 * @param date 日期
+	 * @param diff 间隔长度
+	 * @param opt 选项，y：间隔单位为年，q：间隔单位为季，m：间隔单位为月，s：间隔单位为秒，ms：间隔单位为毫秒
+	 * e：不调整月底，缺省将把月调整成月底，与@yqm配合
+	 * @return 日期
 	 */
 	public static Date elapse(Date date, int diff, String opt) {
 		Calendar c = Calendar.getInstance();
@@ -2449,7 +2449,7 @@ public class Variant {
 				c.add(Calendar.YEAR, diff);
 				c.set(Calendar.DATE, c.getActualMaximum(Calendar.DATE));
 			}
-		} else if (opt.indexOf('q') != -1) { // 
+		} else if (opt.indexOf('q') != -1) { // 季
 			if (opt.indexOf('e') != -1 || c.get(Calendar.DATE) != c.getActualMaximum(Calendar.DATE)) {
 				c.add(Calendar.MONTH, diff * 3);
 			} else {
@@ -2511,7 +2511,7 @@ public class Variant {
 		return day / 7;
 	}
 	
-	// ұ
+	// 周日数量，按左开右闭区间计
 	private static long weekInterval_7(Date date1, Date date2) {
 		long day = dayInterval(date1, date2);
 		if (day < 0) {
@@ -2523,7 +2523,7 @@ public class Variant {
 		
 		int week = DateFactory.get().week((Date)date1);
 		if (week != Calendar.SUNDAY) {
-			// 
+			// 调整到周日
 			int n = Calendar.SATURDAY - week + 1;
 			day -= n;
 			if (day >= 0) {
@@ -2536,7 +2536,7 @@ public class Variant {
 		}
 	}
 	
-	// һұ
+	// 周一数量，按左开右闭区间计
 	private static long weekInterval_1(Date date1, Date date2) {
 		long day = dayInterval(date1, date2);
 		if (day < 0) {
@@ -2548,7 +2548,7 @@ public class Variant {
 		
 		int week = DateFactory.get().week((Date)date1);
 		if (week != Calendar.MONDAY) {
-			// һ
+			// 调整到周一
 			int n = week == Calendar.SUNDAY ? 1 : Calendar.SATURDAY - week + 2;
 			day -= n;
 			if (day >= 0) {
@@ -2562,70 +2562,70 @@ public class Variant {
 	}
 	
 	/**
-	 * ڼ
+	 * 返回两个日期间隔多少天
 	 * @param date1 Date
 	 * @param date2 Date
-	 * @return long 
+	 * @return long 天数
 	 */
 	public static long dayInterval(Date date1, Date date2) {
 		return (date2.getTime() - BASEDATE) / 86400000 - (date1.getTime() - BASEDATE) / 86400000;
 	}
 	
 	/**
-	 * ڼ
+	 * 返回两个日期间隔多少天
 	 * @param date1 Date
 	 * @param date2 Date
-	 * @return long 
+	 * @return long 天数
 	 */
 	public static long dayInterval(long date1, long date2) {
 		return (date2 - BASEDATE) / 86400000 - (date1 - BASEDATE) / 86400000;
 	}
 
 	/**
-	 * ڼ
+	 * 返回两个日期间隔多少秒
 	 * @param date1 Date
 	 * @param date2 Date
-	 * @return long 
+	 * @return long 秒数
 	 */
 	public static long secondInterval(Date date1, Date date2) {
 		return (date2.getTime() - date1.getTime()) / 1000;
 	}
 
 	/**
-	 * ڼٺ
+	 * 返回两个日期间隔多少毫秒
 	 * @param date1 Date
 	 * @param date2 Date
-	 * @return long 
+	 * @return long 毫秒数
 	 */
 	private static long millisecondInterval(Date date1, Date date2) {
 		return date2.getTime() - date1.getTime();
 	}
 
 	/**
-	 * ڵĲļǰ
+	 * 返回两个日期的差，后面的减前面的
 	 * @param date1 Date
 	 * @param date2 Date
-	 * @param opt String y꣬qm£s룬ms
+	 * @param opt String y：年，q：季，m：月，s：秒，ms：毫秒
 	 * @return long
 	 */
 	public static long interval(Date date1, Date date2, String opt) {
 		if (opt == null) {
 			return dayInterval(date1, date2);
-		} else if (opt.indexOf("ms") != -1) { // 
+		} else if (opt.indexOf("ms") != -1) { // 毫秒
 			return millisecondInterval(date1, date2);
-		} else if (opt.indexOf('y') != -1) { // 
+		} else if (opt.indexOf('y') != -1) { // 年
 			return yearInterval(date1, date2);
-		} else if (opt.indexOf('q') != -1) { // 
+		} else if (opt.indexOf('q') != -1) { // 季
 			return quaterInterval(date1, date2);
-		} else if (opt.indexOf('m') != -1) { // 
+		} else if (opt.indexOf('m') != -1) { // 月
 			return monthInterval(date1, date2);
-		} else if (opt.indexOf('s') != -1) { // 
+		} else if (opt.indexOf('s') != -1) { // 秒
 			return secondInterval(date1, date2);
-		} else if (opt.indexOf('w') != -1) { // 
+		} else if (opt.indexOf('w') != -1) { // 周
 			return weekInterval(date1, date2);
-		} else if (opt.indexOf('7') != -1) { // 
+		} else if (opt.indexOf('7') != -1) { // 周
 			return weekInterval_7(date1, date2);
-		} else if (opt.indexOf('1') != -1) { // 
+		} else if (opt.indexOf('1') != -1) { // 周
 			return weekInterval_1(date1, date2);
 		} else {
 			return dayInterval(date1, date2);
@@ -2633,31 +2633,31 @@ public class Variant {
 	}
 
 	/**
-	 * ڵľȷļǰ
+	 * 返回两个日期的精确差，后面的减前面的
 	 * @param date1 Date
 	 * @param date2 Date
-	 * @param opt String y꣬qm£s룬ms
+	 * @param opt String y：年，q：季，m：月，s：秒，ms：毫秒
 	 * @return long
 	 */
 	public static double realInterval(Date date1, Date date2, String opt) {
 		if (opt == null) {
 			double msDiff = millisecondInterval(date1, date2);
 			return msDiff / 86400000;
-		} else if (opt.indexOf("ms") != -1) { // 
+		} else if (opt.indexOf("ms") != -1) { // 毫秒
 			return millisecondInterval(date1, date2);
-		} else if (opt.indexOf('y') != -1) { // 
+		} else if (opt.indexOf('y') != -1) { // 年
 			double dayDiff = dayInterval(date1, date2);
 			return dayDiff / 365;
-		} else if (opt.indexOf('q') != -1) { // 
+		} else if (opt.indexOf('q') != -1) { // 季
 			double dayDiff = dayInterval(date1, date2);
 			return dayDiff / 90;
-		} else if (opt.indexOf('m') != -1) { // 
+		} else if (opt.indexOf('m') != -1) { // 月
 			double dayDiff = dayInterval(date1, date2);
 			return dayDiff / 30;
-		} else if (opt.indexOf('s') != -1) { // 
+		} else if (opt.indexOf('s') != -1) { // 秒
 			double msDiff = millisecondInterval(date1, date2);
 			return msDiff / 1000;
-		} else if (opt.indexOf('w') != -1) { // 
+		} else if (opt.indexOf('w') != -1) { // 周
 			double dayDiff = dayInterval(date1, date2);
 			return dayDiff / 7;
 		} else {
@@ -2667,10 +2667,10 @@ public class Variant {
 	}
 
 	/**
-	 * ʱǷȣĬϱȽϵ
+	 * 返回两个时间是否相等，默认比较到天
 	 * @param date1 Date
 	 * @param date2 Date
-	 * @param opt String y꣬qm£tѮw
+	 * @param opt String y：年，q：季，m：月，t：旬，w：周
 	 * @return boolean
 	 */
 	public static boolean isEquals(Date date1, Date date2, String opt) {
@@ -2679,9 +2679,9 @@ public class Variant {
 
 		if (opt == null) {
 			return df.month(date1) == df.month(date2) && df.day(date1) == df.day(date2);
-		} else if (opt.indexOf('y') != -1) { // 
+		} else if (opt.indexOf('y') != -1) { // 年
 			return true;
-		} else if (opt.indexOf('q') != -1) { // 
+		} else if (opt.indexOf('q') != -1) { // 季
 			int m1 = df.month(date1);
 			int m2 = df.month(date2);
 			if (m1 <= 3) {
@@ -2693,9 +2693,9 @@ public class Variant {
 			} else {
 				return m2 > 9;
 			}
-		} else if (opt.indexOf('m') != -1) { // 
+		} else if (opt.indexOf('m') != -1) { // 月
 			return df.month(date1) == df.month(date2);
-		} else if (opt.indexOf('t') != -1) { // Ѯ
+		} else if (opt.indexOf('t') != -1) { // 旬
 			if (df.month(date1) != df.month(date2)) return false;
 			int d1 = df.day(date1);
 			int d2 = df.day(date2);
@@ -2708,12 +2708,12 @@ public class Variant {
 			} else {
 				return d2 > 20;
 			}
-		} else if (opt.indexOf('w') != -1) { // 
+		} else if (opt.indexOf('w') != -1) { // 周
 			int dayDiff = (int)dayInterval(date1, date2);
 			if (dayDiff == 0) return true;
 			int week2 = df.week(date1) + dayDiff;
 
-			// һ
+			// 周日属于下一周
 			return week2 >= Calendar.SUNDAY && week2 <= Calendar.SATURDAY;
 		} else {
 			return df.month(date1) == df.month(date2) && df.day(date1) == df.day(date2);
@@ -2721,7 +2721,7 @@ public class Variant {
 	}
 
 	/**
-	 * İλ
+	 * 计算两个数的按位与
 	 * @param n1 Number
 	 * @param n2 Number
 	 * @return Number
@@ -9,15 +9,15 @@ import com.scudata.dm.Record;
 import com.scudata.dm.Sequence;
 
 /**
- * XMLʽĽڵ
+ * XML格式串的节点
  * @author RunQian
  *
  */
 class XMLNode {
-	private String name; // 
-	private XMLNode parent; // ڵ
-	private ArrayList<XMLNode> subList; // ӽڵб
-	private String characters; // ڵֵַ
+	private String name; // 名称
+	private XMLNode parent; // 父节点
+	private ArrayList<XMLNode> subList; // 子节点列表
+	private String characters; // 节点值字符串
 	//private Object value;
 	
 	private String []attrNames;
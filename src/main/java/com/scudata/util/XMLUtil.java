@@ -34,17 +34,17 @@ import com.scudata.resources.EngineMessage;
 //import org.jdom.Attribute;
 
 /**
- * ڰתXMLʽ߰XMLʽ
+ * 用于把排列转成XML格式串或者把XML格式串读成排列
  * @author RunQian
  *
  */
 final public class XMLUtil {
-	private static final String ID_Table = "xml"; // Ĭϵıǩ
-	private static final String ID_Row = "row"; // ¼Ĭϵıǩ
+	private static final String ID_Table = "xml"; // 表默认的标签名
+	private static final String ID_Row = "row"; // 记录默认的标签名
 
 	private static AttributesImpl attr = new AttributesImpl();
 
-	// ַתobjַ˫
+	// 字符串转换，如果obj本身是字符串则加上双引号
 	private static String toTextNodeString(Object obj) {
 		if (obj == null) {
 			return ""; //"null";
@@ -69,12 +69,12 @@ final public class XMLUtil {
 	}
 	
 	/**
-	 * XMLʽɶ¼
-	 * <>ڵıʶΪֶظͬʶΪ
-	 * <K F=v F=v >D</K>XMLΪK,F,Ϊֶεļ¼
-	 * KȡֵΪDDǶXMLʱΪУ<K ./K>ʱDΪnull<K></K>ʱDΪմ
-	 * @param src XML
-	 * @param levels ʶ/ָ
+	 * 把XML格式串读成多层记录或序表
+	 * <>内的标识作为字段名，重复的同名标识生成为序表
+	 * 将形如<K F=v F=v …>D</K>的XML串解析为以K,F,…为字段的记录，
+	 * K取值为D，D是多层XML内容时解析为排列，<K …./K>时D解析为null，<K…></K>时D解析为空串
+	 * @param src XML串
+	 * @param levels 层标识，多层用/分隔
 	 * @return
 	 */
 	public static Object parseXml(String src, String levels) {
@@ -82,13 +82,13 @@ final public class XMLUtil {
 	}
 	
 	/**
-	 * XMLʽɶ¼
-	 * <>ڵıʶΪֶظͬʶΪ
-	 * <K F=v F=v >D</K>XMLΪK,F,Ϊֶεļ¼
-	 * KȡֵΪDDǶXMLʱΪУ<K ./K>ʱDΪnull<K></K>ʱDΪմ
-	 * @param src XML
-	 * @param levels ʶ/ָ
-	 * @param opt ѡsȡֵ
+	 * 把XML格式串读成多层记录或序表
+	 * <>内的标识作为字段名，重复的同名标识生成为序表
+	 * 将形如<K F=v F=v …>D</K>的XML串解析为以K,F,…为字段的记录，
+	 * K取值为D，D是多层XML内容时解析为排列，<K …./K>时D解析为null，<K…></K>时D解析为空串
+	 * @param src XML串
+	 * @param levels 层标识，多层用/分隔
+	 * @param opt 选项，s：读取属性值
 	 * @return
 	 */
 	public static Object parseXml(String src, String levels, String opt) {
@@ -110,10 +110,10 @@ final public class XMLUtil {
 	}
 
 	/**
-	 * бXMLʽ
-	 * @param sequence 
-	 * @param charset ַ
-	 * @param levels ʶʽΪ"TableName/RecordName"/ָʡ"xml/row"
+	 * 把排列变成XML格式串
+	 * @param sequence 排列
+	 * @param charset 字符集
+	 * @param levels 层标识，格式为"TableName/RecordName"，多层用/分隔，如果省略则用"xml/row"
 	 * @return
 	 */
 	public static String toXml(Sequence sequence, String charset, String levels) {
@@ -179,10 +179,10 @@ final public class XMLUtil {
 	}
 	
 	/**
-	 * Ѽ¼XMLʽ
-	 * @param r ¼
-	 * @param charset ַ
-	 * @param levels ʶ/ָ
+	 * 把记录变成XML格式串
+	 * @param r 记录
+	 * @param charset 字符集
+	 * @param levels 层标识，多层用/分隔
 	 * @return
 	 */
 	public static String toXml(BaseRecord r, String charset, String levels) {
@@ -223,7 +223,7 @@ final public class XMLUtil {
 	}
 	
 	private static void appendTab(TransformerHandler handler, int level) throws SAXException {
-		// Ҫ룿
+		// 不需要对齐？
 		/*if (false) {
 			StringBuffer sb = new StringBuffer(ENTER);
 			for (int i = 0; i < level; i++) {
@@ -7,17 +7,17 @@ import com.scudata.dm.ObjectReader;
 import com.scudata.dm.ObjectWriter;
 
 /**
- * 鵵Ŀ¼
+ * 归档目录
  * @author RunQian
  *
  */
 class ArchiveDir extends IDir {
-	private int header = -1; // ׿
-	private int fileIndex = -1; // ǰڶӦıڸĿ¼е
-	private long commitTime; // ύʱ
+	private int header = -1; // 首块号
+	private int fileIndex = -1; // 当前节对应的表单在父目录表单中的索引
+	private long commitTime; // 提交时间
 	
-	private ArchiveSection parent; // 
-	private ArchiveSection section; // ·ӦĽ
+	private ArchiveSection parent; // 父节
+	private ArchiveSection section; // 路径对应的节
 	
 	public ArchiveDir(ArchiveDir src) {
 		value = src.value;
@@ -19,19 +19,19 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.HashUtil;
 
 /**
- * 鵵
+ * 归档节
  * @author RunQian
  *
  */
 class ArchiveSection extends ISection {
-	private byte sign; // λ
-	private int subDataHeader = -1; // ļռõ׿
+	private byte sign; // 保留位
+	private int subDataHeader = -1; // 子文件数据占用的物理块首块
 	private ArchiveDir []subDirs;
 	
-	private IDir dir; // ڶӦĿ¼Ϣ
-	private int header = -1; // ׿
-	private int []otherBlocks; // һռõ飬Ϊnull
-	private Sequence subDatas; // ·°ı
+	private IDir dir; // 节对应的目录信息
+	private int header = -1; // 首块号
+	private int []otherBlocks; // 除第一块外占用的其它物理块，可能为null
+	private Sequence subDatas; // 路径下包含的表单的数据
 	
 	public ArchiveSection() {
 	}
@@ -70,7 +70,7 @@ class ArchiveSection extends ISection {
 		reader.close();
 	}
 	
-	// section鵵
+	// 将section归档
 	private ArchiveSection(VDB vdb, Section section, ArchiveDir dir) throws IOException {
 		Library library = vdb.getLibrary();
 		if (dir == null) {
@@ -115,7 +115,7 @@ class ArchiveSection extends ISection {
 		}
 		
 		if (dir == null && section.isFile()) {
-			// 鵵Ŀ¼
+			// 归档的首目录
 			if (fileDatas == null) {
 				fileDatas = new Sequence(1);
 			}
@@ -277,7 +277,7 @@ class ArchiveSection extends ISection {
 				return archiveDir.getFileData(vdb);
 			}
 		} else if ((sign & ISection.SIGN_ARCHIVE_FILE) != 0) {
-			// 鵵·ʼͬݴsubDatasĽβ
+			// 归档路径域的起始节如果有同名表单则数据存放在subDatas的结尾
 			loadSubDatas(vdb);
 			return subDatas.getMem(subDatas.length());
 		}
@@ -289,7 +289,7 @@ class ArchiveSection extends ISection {
 		Object data = load(vdb, null);
 		if (data != null) {
 			addDataToTable(table, values, signs, data);
-			// еѡֶٱ
+			// 如果有单据满足了选出字段则不再遍历子
 			//if (isAdded) {
 			//	return;
 			//}
@@ -325,7 +325,7 @@ class ArchiveSection extends ISection {
 		Object data = load(vdb, null);
 		if (data != null) {
 			addDataToTable(table, values, signs, data, filter, ctx);
-			// еѡֶٱ
+			// 如果有单据满足了选出字段则不再遍历子
 			//if (isAdded) {
 			//	return;
 			//}
@@ -387,10 +387,10 @@ class ArchiveSection extends ISection {
 					out.addAll(seq);
 				}
 
-				// еѡֶٱӣ
+				// 如果有单据满足了选出字段则不再遍历子？
 			}
 			
-			// ݹӽڵ
+			// 不递归遍历所有子节点
 			if (!isRecursion) {
 				return;
 			}
@@ -413,7 +413,7 @@ class ArchiveSection extends ISection {
 	}
 
 	static RQException getModifyException() {
-		return new RQException("鵵·򲻿ٱ޸");
+		return new RQException("归档路径域不可以再被修改");
 	}
 
 	public int lockForWrite(VDB vdb) {
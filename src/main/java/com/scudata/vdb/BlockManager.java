@@ -3,19 +3,19 @@ package com.scudata.vdb;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 
-//տ
+//空块管理器
 /**
- * ݿļտͻϵĿ
+ * 数据库文件物理块管理器，用于申请空块和回收作废的块
  * @author RunQian
  *
  */
 class BlockManager {
-	private static final int ALLUSED = 0xffffffff; // 32λȫռ
+	private static final int ALLUSED = 0xffffffff; // 32位全被占用
 	
-	private Library library; // ݿ
-	private volatile int totalBlockCount; // ܿ
-	private int []blockSigns; // Ƿռñ־ռӦλΪ1Ϊ0
-	private int signIndex; // һɨ赽տλ
+	private Library library; // 数据库对象
+	private volatile int totalBlockCount; // 总块数
+	private int []blockSigns; // 块是否被占用标志，被占用了则相应的位为1，否则为0
+	private int signIndex; // 上一次扫描到空块的位置
 	private boolean stopSign = false;
 	
 	
@@ -23,25 +23,25 @@ class BlockManager {
 		this.library = library;
 	}
 	
-	// ÿ
+	// 设置块数量
 	private void setBlockCount(int n) {
-		int len = n / 32; // ÿintԱʾ32
+		int len = n / 32; // 每个int可以表示32块
 		if (n % 32 != 0) {
 			len++;
 		}
 		
 		if (blockSigns == null) {
-			// ʱʼ
+			// 启动时初始化
 			blockSigns = new int[len];
 		} else {
-			// 
+			// 增大块数
 			int []tmp = new int[len];
 			System.arraycopy(blockSigns, 0, tmp, 0, blockSigns.length);
 			blockSigns = tmp;
 		}
 	}
 	
-	// ָ
+	// 回收指定物理块
 	private void setBlockUnused(int block) {
 		int m = block / 32;
 		int n= block % 32;
@@ -53,8 +53,8 @@ class BlockManager {
 	}
 	
 	/**
-	 * ʱãͬÿ鱻ʹ
-	 * @param block 
+	 * 启动时调用，不做同步，设置块被使用
+	 * @param block 物理块号
 	 */
 	public void setBlockUsed(int block) {
 		int m = block / 32;
@@ -63,8 +63,8 @@ class BlockManager {
 	}
 	
 	/**
-	 * ʱãͬÿ鱻ʹ
-	 * @param blocks 
+	 * 启动时调用，不做同步，设置块被使用
+	 * @param blocks 物理块号数组
 	 */
 	public void setBlocksUsed(int []blocks) {
 		for (int block : blocks) {
@@ -75,8 +75,8 @@ class BlockManager {
 	}
 	
 	/**
-	 * 
-	 * @param file ʱļڼؿʹϢΪɨݿļ
+	 * 启动块管理器
+	 * @param file 临时文件，用于记载块使用信息，如果为空则扫描数据库文件
 	 * @throws IOException
 	 */
 	public void start(RandomAccessFile file) throws IOException {
@@ -98,7 +98,7 @@ class BlockManager {
 	}
 	
 	/**
-	 * ݿرգرտ
+	 * 数据库关闭，关闭块管理器
 	 */
 	public void stop() {
 		//thread.setStop();
@@ -106,7 +106,7 @@ class BlockManager {
 		stopSign = true;
 	}
 	
-	// ɨļλõĿ飬ʱûӣɾλ
+	// 扫描物理文件最新区位用到的块，此时没有连接，删除多余的区位
 	void doThreadScan() throws IOException {
 		int total = (int)(library.getFile().length() / Library.BLOCKSIZE);
 		totalBlockCount = total;
@@ -117,7 +117,7 @@ class BlockManager {
 		setBlockUsed(0);
 	}
 	
-	// ɨļλõĿ飬ʱûӣɾλ
+	// 扫描物理文件最新区位用到的块，此时没有连接，删除多余的区位
 	private void scanUsedBlocks() throws IOException {
 		int total = (int)(library.getFile().length() / Library.BLOCKSIZE);
 		totalBlockCount = total;
@@ -155,7 +155,7 @@ class BlockManager {
 		}*/
 	}
 	
-	// ļ
+	// 扩大文件
 	private void enlargeFile() {
 		totalBlockCount += Library.ENLARGE_BLOCKCOUNT;
 		library.enlargeFile((long)totalBlockCount * Library.BLOCKSIZE);
@@ -163,10 +163,10 @@ class BlockManager {
 	}
 	
 	/**
-	 * ׿Ҫ飬block
-	 * @param block ԭ׿
-	 * @param blockCount Ҫܿ
-	 * @return տ
+	 * 申请首块所需要的物理块，包含block块
+	 * @param block 原首块号
+	 * @param blockCount 需要的总块数
+	 * @return 空块号
 	 */
 	public synchronized int[] applyHeaderBlocks(int block, int blockCount) {
 		if (blockCount == 1) {
@@ -198,7 +198,7 @@ class BlockManager {
 			}
 			
 			blocks[i] = totalBlockCount;
-			enlargeFile(); // ıtotalBlockCountС
+			enlargeFile(); // 会改变totalBlockCount大小
 			setBlockUsed(blocks[i]);
 		}
 		
@@ -207,8 +207,8 @@ class BlockManager {
 	}
 	
 	/**
-	 * ݿҪ飬block
-	 * @param block ׿λãݿŵλþ׿
+	 * 申请数据块所需要的物理块，不包含block块
+	 * @param block 首块的位置，数据块存放的位置尽量靠近首块
 	 * @param blockCount
 	 * @return
 	 */
@@ -236,7 +236,7 @@ class BlockManager {
 			}
 			
 			blocks[i] = totalBlockCount;
-			enlargeFile(); // ıtotalBlockCountС
+			enlargeFile(); // 会改变totalBlockCount大小
 			setBlockUsed(blocks[i]);
 		}
 		
@@ -245,8 +245,8 @@ class BlockManager {
 	}
 
 	/**
-	 * һ׿
-	 * @return ׿
+	 * 申请一个首块
+	 * @return 首块号
 	 */
 	public synchronized int applyHeaderBlock() {
 		int []blockSigns = this.blockSigns;
@@ -271,26 +271,26 @@ class BlockManager {
 		return result;
 	}
 	
-	// ָ
+	// 回收指定物理块
 	public synchronized void recycleBlock(int block) {
 		setBlockUnused(block);
 	}
 	
-	// ָ
+	// 回收指定物理块
 	public synchronized void recycleBlocks(int[] blocks) {
 		for (int block : blocks) {
 			setBlockUnused(block);
 		}
 	}
 	
-	// ָ
+	// 回收指定物理块
 	public synchronized void recycleBlocks(int[] blocks, int pos) {
 		for (int len = blocks.length; pos < len; ++pos) {
 			setBlockUnused(blocks[pos]);
 		}
 	}
 	
-	// ѿϢдʱļΪ´ݿ
+	// 把块信息写到临时文件，为下次启动数据库提速
 	void writeTempFile(RandomAccessFile file) throws IOException {
 		int []blockSigns = this.blockSigns;
 		int len = blockSigns.length;
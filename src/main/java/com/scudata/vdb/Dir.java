@@ -7,7 +7,7 @@ import com.scudata.dm.ObjectReader;
 import com.scudata.dm.ObjectWriter;
 
 /**
- * Ŀ¼
+ * 目录
  * @author RunQian
  *
  */
@@ -16,8 +16,8 @@ class Dir extends IDir {
 	public static final int S_DELETE = -1;
 	public static final int S_MOVE = -2;
 	
-	private ArrayList<DirZone> zones; // λб
-	private transient Section parent; // 
+	private ArrayList<DirZone> zones; // 区位列表
+	private transient Section parent; // 父节
 	
 	public Dir(Section parent) {
 		this.parent = parent;
@@ -91,7 +91,7 @@ class Dir extends IDir {
 		if (zones == null) {
 			zones = new ArrayList<DirZone>(1);
 		}/* else {
-			// Ѿһûύλ򸲸
+			// 如果已经有一个还没提交的区位则覆盖
 			int size = zones.size();
 			if (size > 0) {
 				DirZone zone = zones.get(size - 1);
@@ -100,7 +100,7 @@ class Dir extends IDir {
 					return zone;
 				}
 			}
-		}*/ // moveڸ
+		}*/ // move不用用于覆盖
 		
 		DirZone zone = new DirZone();
 		zone.setBlock(state);
@@ -109,7 +109,7 @@ class Dir extends IDir {
 		return zone;
 	}
 	
-	// λ
+	// 返回区位数
 	public synchronized int roolBack() {
 		for (int i = zones.size() - 1; i >= 0; --i) {
 			DirZone zone = zones.get(i);
@@ -123,7 +123,7 @@ class Dir extends IDir {
 		return 0;
 	}
 	
-	// жָ߼ܷ񿴵Ŀ¼path
+	// 判断指定逻辑库能否看到子目录path
 	public synchronized DirZone getZone(VDB vdb, boolean isLockVDB) {
 		ArrayList<DirZone> zones = this.zones;
 		if (zones == null) return null;
@@ -149,9 +149,9 @@ class Dir extends IDir {
 		}
 	}
 	
-	// ɾtxSeqĶλ
+	// 删除比事务号txSeq早的多余的区位
 	public synchronized void deleteOutdatedZone(Library library, int outerSeq, long txSeq) {
-		// ٱһύλڳʱָ
+		// 最少保留一个已提交的区位，用于出错时恢复？
 		ArrayList<DirZone> zones = this.zones;
 		int last = zones.size() - 1;
 		if (last < 1) {
@@ -177,7 +177,7 @@ class Dir extends IDir {
 		}
 	}
 	
-	// ݿ׼ɾλȡռõ
+	// 启动数据库后的准备工作，删除旧区位，取被占用的物理块
 	public boolean scanUsedBlocks(Library library, BlockManager manager) throws IOException {
 		ArrayList<DirZone> zones = this.zones;
 		int size = zones.size();
@@ -4,14 +4,14 @@ import com.scudata.dm.Sequence;
 import com.scudata.util.Variant;
 
 /**
- * Ŀ¼
+ * 目录过滤器
  * @author RunQian
  *
  */
 class DirFilter {
 	private Object rightValue;
-	private Sequence values; // бʾϵ
-	private boolean valueSign; // trueĿ¼ʱĿ¼ֵnullѡֵnullĿ¼falseʡĿ¼ֵԴĿ¼
+	private Sequence values; // 序列表示从属关系
+	private boolean valueSign; // true：对目录提条件，此时如果传入的目录值是null，则会选值是null的目录，false：省略目录值，即不对此目录提条件
 
 	public DirFilter(Object rightValue, boolean valueSign) {
 		this.rightValue = rightValue;
@@ -3,7 +3,7 @@ package com.scudata.vdb;
 import java.io.IOException;
 
 /**
- * Ŀ¼λ
+ * 目录区位
  * @author RunQian
  *
  */
@@ -18,7 +18,7 @@ class DirZone extends Zone {
 			if (block > 0) {
 				section = ISection.read(library, block, dir);
 			} else {
-				 // ɵĿ¼δύ
+				 // 新生成的子目录，尚未提交
 				section = new Section(dir);
 			}
 		}
@@ -50,7 +50,7 @@ class DirZone extends Zone {
 		section = null;
 	}
 	
-	// ܱɾ˻
+	// 可能被删了或者移走了
 	public boolean valid() {
 		return block >= Dir.S_NORMAL;
 	}
@@ -58,7 +58,7 @@ class DirZone extends Zone {
 	public void reset(int state) {
 		section = null;
 		if (state != Dir.S_NORMAL) {
-			block = state; // СDir.S_NORMALʾɾ
+			block = state; // 小于Dir.S_NORMAL表示删除
 		} else {
 			if (block < Dir.S_NORMAL) {
 				block = Dir.S_NORMAL;
@@ -66,7 +66,7 @@ class DirZone extends Zone {
 		}
 	}
 	
-	// Ϊ²·׿
+	// 为新产生的子路径申请首块
 	public void applySubHeader(Library library, int outerSeq, long innerSeq, Dir dir) throws IOException {
 		setTxSeq(outerSeq, innerSeq);
 		
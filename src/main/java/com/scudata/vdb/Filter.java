@@ -11,30 +11,30 @@ import com.scudata.expression.Expression;
 import com.scudata.util.Variant;
 
 /**
- * 
+ * 过滤条件
  * @author RunQian
  *
  */
 class Filter {
-	private String []filterDirs; // Ŀ¼
-	private DirFilter []filters; // Ŀ¼
-	private String []selFields; // ѡֶ
+	private String []filterDirs; // 目录名数组
+	private DirFilter []filters; // 目录过滤
+	private String []selFields; // 选出字段
 	private Expression exp;
 	private Context ctx;
-	//private Expression filter; // ʶıʽ
+	//private Expression filter; // 不能识别的表达式
 	
-	private int filterCount = 0; // 
-	private int filterIndex = 0; // һ·Ӧ
+	private int filterCount = 0; // 条件总数
+	private int filterIndex = 0; // 下一个路径对应的条件索引
 	
-	private int capacity = 16; // Ŀ¼
-	private int dirIndex = 0; // һҪĿ¼еλ
-	private String []dirNames = new String[capacity]; // ·
-	private Object []dirValues = new Object[capacity]; // ·ֵ
+	private int capacity = 16; // 目录数容量
+	private int dirIndex = 0; // 下一个要加入的目录在数组中的位置
+	private String []dirNames = new String[capacity]; // 路径名
+	private Object []dirValues = new Object[capacity]; // 路径值
 	
 	private int selDirCount = 0;
-	private String []resultFields; // ݽṹselFieldsΪֻѡĿ¼ֶ
+	private String []resultFields; // 结果集数据结构，如果selFields为空则只包含选出的目录字段
 	
-	// retriveʹ
+	// retrive使用
 	public Filter(String []dirNames, Object []dirValues, boolean []valueSigns, String []selFields, Expression exp, Context ctx) {
 		this.filterDirs = dirNames;
 		this.selFields = selFields;
@@ -77,7 +77,7 @@ class Filter {
 		}
 	}
 	
-	// updateʹ
+	// update使用
 	public Filter(String []dirNames, Object []dirValues, boolean []valueSigns, Expression exp, Context ctx) {
 		this.filterDirs = dirNames;
 		this.exp = exp;
@@ -92,7 +92,7 @@ class Filter {
 		}
 	}
 	
-	// Ƿй˱ʽ
+	// 是否有过滤表达式
 	public boolean hasExpression() {
 		return exp != null;
 	}
@@ -105,7 +105,7 @@ class Filter {
 		}
 	}
 	
-	// 򷵻false
+	// 如果不满足过滤条件则返回false，并不添加
 	public boolean pushDir(String name, Object value) {
 		if (filterIndex < filterCount && isEqualField(filterDirs[filterIndex], name)) {
 			if (filters[filterIndex].match(value)) {
@@ -163,7 +163,7 @@ class Filter {
 		return table;
 	}
 	
-	// ж·ֵǷƥ
+	// 判断路径值是否与条件都匹配了
 	public boolean isDirMatch() {
 		return filterIndex == filterCount;
 	}
@@ -10,16 +10,16 @@ import com.scudata.dm.ObjectWriter;
 import com.scudata.util.HashUtil;
 
 /**
- * ׿
+ * 首块
  * @author RunQian
  *
  */
 class HeaderBlock {	
-	private int []otherBlocks; // һռõ飬Ϊnull
-	private byte sign; // λ
-	private long commitTime; // ύʱ
+	private int []otherBlocks; // 除第一块外占用的其它物理块，可能为null
+	private byte sign; // 保留位
+	private long commitTime; // 提交时间
 	
-	private ArrayList<Zone> fileZones; // ļλб
+	private ArrayList<Zone> fileZones; // 文件区位列表
 	private ArrayList<Dir> subDirs;
 	
 	public HeaderBlock() {
@@ -94,7 +94,7 @@ class HeaderBlock {
 		return bos.toByteArray();
 	}
 	
-	// תֽ飬ύļ
+	// 转成字节数组，用于提交到文件
 	public void commit(Library library, int header, int outerSeq, long innerSeq) throws IOException {
 		ByteArrayOutputStream bos = new ByteArrayOutputStream(Library.BLOCKSIZE);
 		ObjectWriter writer = new ObjectWriter(bos);
@@ -135,7 +135,7 @@ class HeaderBlock {
 		otherBlocks = library.writeHeaderBlock(header, otherBlocks, bytes);
 	}
 	
-	// ȡĿ¼
+	// 取子目录
 	public synchronized Dir getSubDir(Object path) {
 		if (subDirs == null) return null;
 		
@@ -146,7 +146,7 @@ class HeaderBlock {
 		return null;
 	}
 	
-	// ȡеĿ¼
+	// 取所有的子目录
 	public synchronized Dir[] getSubDirs() {
 		if (subDirs == null || subDirs.size() == 0) {
 			return null;
@@ -178,7 +178,7 @@ class HeaderBlock {
 		if (subDirs == null) {
 			subDirs = new ArrayList<Dir>();
 		} else {
-			// ܴ·ɾ
+			// 可能存在这个子路径，但被删除或者移走了
 			for (Dir dir : subDirs) {
 				if (dir.isEqualValue(path)) {
 					dir.addZone(Dir.S_NORMAL);
@@ -196,7 +196,7 @@ class HeaderBlock {
 		if (fileZones == null) {
 			fileZones = new ArrayList<Zone>();
 		} else {
-			// Ѿһûύλ򸲸
+			// 如果已经有一个还没提交的区位则覆盖
 			int size = fileZones.size();
 			if (size > 0) {
 				Zone zone = fileZones.get(size - 1);
@@ -211,7 +211,7 @@ class HeaderBlock {
 		fileZones.add(new Zone(block));
 	}
 	
-	// ȡӦļλ
+	// 取相应的文件区位
 	public synchronized Zone getFileZone(VDB vdb, boolean isLockVDB) {
 		ArrayList<Zone> fileZones = this.fileZones;
 		if (fileZones == null) return null;
@@ -255,9 +255,9 @@ class HeaderBlock {
 		}
 	}
 	
-	// ɾtxSeqĶλ
+	// 删除比事务号txSeq早的多余的区位
 	synchronized public void deleteOutdatedZone(Library library, int outerSeq, long txSeq) {
-		// ٱһύλ
+		// 最少保留一个已提交的区位？
 		ArrayList<Zone> fileZones = this.fileZones;
 		if (fileZones != null && fileZones.size() > 1) {
 			int last = fileZones.size() - 1;
@@ -287,7 +287,7 @@ class HeaderBlock {
 		}
 	}
 	
-	// ݿ׼ɾλȡռõ
+	// 启动数据库后的准备工作，删除旧区位，取被占用的物理块
 	public void scanUsedBlocks(Library library, BlockManager manager) throws IOException {
 		if (otherBlocks != null) {
 			manager.setBlocksUsed(otherBlocks);
@@ -343,7 +343,7 @@ class HeaderBlock {
 		return subDirs != null;
 	}
 	
-	// ؽڵǷǿսڵ㣬ûеݺĿ¼
+	// 返回节点是否是空节点，没有单据和子目录
 	public synchronized boolean isNullSection() {
 		if (fileZones != null && fileZones.size() > 0) {
 			return false;
@@ -372,7 +372,7 @@ class HeaderBlock {
 	}
 	
 	public void moveSubDir(Dir dir, ISection section) {
-		// ûܻʵ˽ڣյʱжǷmovemoveĲ
+		// 没结束的事务可能还会访问到此节，垃圾回收的时候判断是否被move，被move的不回收
 		//dir.getLastZone().releaseSection();
 		dir.addZone(Dir.S_MOVE);
 	}
@@ -393,7 +393,7 @@ class HeaderBlock {
 		return (sign & ISection.SIGN_KEY_SECTION) != 0;
 	}
 
-	// ȡĳ·hashֵӦDir
+	// 取键库某个路径的hash值对应Dir
 	public Dir getSubKeyDir(Object path) {
 		int len = subDirs.size();
 		int hash = HashUtil.hashCode(path, len);
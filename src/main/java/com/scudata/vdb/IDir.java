@@ -3,13 +3,13 @@ package com.scudata.vdb;
 import com.scudata.util.Variant;
 
 /**
- * Ŀ¼
+ * 目录基类
  * @author RunQian
  *
  */
 abstract class IDir {
-	protected Object value; // Ŀ¼ֵ
-	protected String name; // Ŀ¼ֶ
+	protected Object value; // 目录值
+	protected String name; // 目录名，即字段名
 		
 	public IDir() {
 	}
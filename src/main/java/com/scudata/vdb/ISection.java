@@ -22,26 +22,26 @@ import com.scudata.resources.EngineMessage;
 import com.scudata.util.EnvUtil;
 
 /**
- * ݿڻ
+ * 数据库节基类
  * @author WangXiaoJun
  *
  */
 abstract class ISection {
 	static protected int SIGN_ARCHIVE = 0x01;
-	static protected int SIGN_ARCHIVE_FILE  = 0x02; // 鵵·ͬ
-	static protected int SIGN_KEY_SECTION  = 0x80; // Ƿ
+	static protected int SIGN_ARCHIVE_FILE  = 0x02; // 归档路径域有同名表单
+	static protected int SIGN_KEY_SECTION  = 0x80; // 是否键节
 	
 	public ISection() {
 	}
 	
 	/**
-	 * ȡڶӦ·
+	 * 取节对应的路径对象
 	 * @return
 	 */
 	abstract public IDir getDir();
 	
 	/**
-	 * ȡڵʾֵ
+	 * 取节的显示值
 	 * @return String
 	 */
 	public String toString() {
@@ -55,7 +55,7 @@ abstract class ISection {
 	}
 	
 	/**
-	 * ȡڵĸ
+	 * 取节的父节
 	 * @return ISection
 	 */
 	public ISection getParent() {
@@ -68,21 +68,21 @@ abstract class ISection {
 	}
 	
 	/**
-	 * ȡڵֵ
-	 * @return ֵ
+	 * 取节的值
+	 * @return 节值
 	 */
 	public Object getValue() {
 		IDir dir = getDir();
 		if (dir != null) {
 			return dir.getValue();
 		} else {
-			// 
+			// 根节
 			return null;
 		}
 	}
 	
 	/**
-	 * ȡڶӦֶ
+	 * 取节对应的字段名
 	 * @return String
 	 */
 	public String getName() {
@@ -90,14 +90,14 @@ abstract class ISection {
 		if (dir != null) {
 			return dir.getName();
 		} else {
-			// 
+			// 根节
 			return null;
 		}
 	}
 	
 	/**
-	 * ȡڵ·
-	 * @param opt a·ĬϷصǰڵģfؽ
+	 * 取节的路径
+	 * @param opt a：返回完整的路径，默认返回当前节的，f：返回节名
 	 * @return Object
 	 */
 	public Object path(String opt) {
@@ -132,22 +132,22 @@ abstract class ISection {
 	}
 	
 	/**
-	 * ش˽Ƿб
+	 * 返回此节是否有表单
 	 * @return
 	 */
 	abstract public boolean isFile();
 	
 	/**
-	 * ش˽Ƿ·Ƿ
+	 * 返回此节是否是路径，即是否有子
 	 * @return
 	 */
 	abstract public boolean isDir();
 	
 	/**
-	 * ȡӽ
-	 * @param vdb ݿ
-	 * @param paths ·ֵ
-	 * @return ӽ
+	 * 取子节
+	 * @param vdb 数据库对象
+	 * @param paths 子路径值序列
+	 * @return 子节
 	 */
 	public ISection getSub(VDB vdb, Sequence paths) {
 		ISection sub = this;
@@ -160,52 +160,52 @@ abstract class ISection {
 	}
 	
 	/**
-	 * ȡӽ
-	 * @param vdb ݿ
-	 * @param path ·ֵ
-	 * @return ӽ
+	 * 取子节
+	 * @param vdb 数据库对象
+	 * @param path 子路径值
+	 * @return 子节
 	 */
 	abstract public ISection getSub(VDB vdb, Object path);
 	
 	/**
-	 * ȡӽƶ
-	 * @param vdb ݿ
-	 * @param path ·ֵ
-	 * @return ӽ
+	 * 取子节用来做移动操作
+	 * @param vdb 数据库对象
+	 * @param path 子路径值
+	 * @return 子节
 	 */
 	abstract public ISection getSubForMove(VDB vdb, Object path);
 	
 	/**
-	 * ȡӽƶ
-	 * @param vdb ݿ
-	 * @param paths ·ֵ
-	 * @return ӽ
+	 * 取子节用来做移动操作
+	 * @param vdb 数据库对象
+	 * @param paths 子路径值序列
+	 * @return 子节
 	 */
 	abstract public ISection getSubForMove(VDB vdb, Sequence paths);
 	
 	/**
-	 * гǰеļ
-	 * @param vdb ݿ
-	 * @param opt dгĿ¼ڣwļĿ¼ȫгlǰ
-	 * @return ӽ
+	 * 列出当前节下所有的子文件节
+	 * @param vdb 数据库对象
+	 * @param opt d：列出子目录节，w：不区分文件和目录全部列出，l：锁定当前节
+	 * @return 子节序列
 	 */
 	abstract public Sequence list(VDB vdb, String opt);
 
 	/**
-	 * ȡǰڵı
-	 * @param vdb ݿ
-	 * @param opt lǰ
-	 * @return 
+	 * 读取当前节的表单
+	 * @param vdb 数据库对象
+	 * @param opt l：锁定当前节
+	 * @return 表单数据
 	 * @throws IOException
 	 */
 	abstract public Object load(VDB vdb, String opt) throws IOException ;
 	
 	/**
-	 * ȡӽڵı
-	 * @param vdb ݿ
-	 * @param path ӽ·
-	 * @param opt lǰ
-	 * @return 
+	 * 读取子节的表单
+	 * @param vdb 数据库对象
+	 * @param path 子节路径
+	 * @param opt l：锁定当前节
+	 * @return 表单数据
 	 * @throws IOException
 	 */
 	public Object load(VDB vdb, Object path, String opt) throws IOException {
@@ -505,7 +505,7 @@ abstract class ISection {
 		return table.length() > 0 ? table : null;
 	}
 	
-	// ȡʽõvdbĽ
+	// 取表达式用到的vdb的节名
 	private static String[] getUsedFields(Expression exp, Context ctx) {
 		ArrayList<String> fieldList = new ArrayList<String>();
 		getUsedFields(exp.getHome(), ctx, fieldList);
@@ -559,16 +559,16 @@ abstract class ISection {
 	}
 
 	/**
-	 * ȡı
-	 * @param vdb ݿ
-	 * @param dirNames 飬ʡɴֶ
-	 * @param dirValues ֵ飬ʡԴ˽ڲ
-	 * @param valueSigns trueĿ¼ʱĿ¼ֵnullѡֵnullĿ¼falseʡĿ¼ֵԴĿ¼
-	 * @param fields еֶ
-	 * @param exp ˱ʽ
-	 * @param isRecursion trueݹȥ·ȱʡ漰㼴ֹͣ
-	 * @param ctx 
-	 * @return 
+	 * 读取节下满足条件的表单
+	 * @param vdb 数据库对象
+	 * @param dirNames 节名数组，省略则结果集不生成此字段
+	 * @param dirValues 节值数组，省略则对此节不提条件
+	 * @param valueSigns true：对目录提条件，此时如果传入的目录值是null，则会选值是null的目录，false：省略目录值，即不对此目录提条件
+	 * @param fields 单据中的字段名数组
+	 * @param exp 其它过滤表达式
+	 * @param isRecursion true：递归去找子路径，缺省将读到参数所涉及层即停止
+	 * @param ctx 计算上下文
+	 * @return 结果集排列
 	 * @throws IOException
 	 */
 	public Sequence retrieve(VDB vdb, String []dirNames, Object []dirValues, boolean []valueSigns, 
@@ -582,170 +582,170 @@ abstract class ISection {
 	abstract protected void retrieve(VDB vdb, Filter filter, boolean isRecursion, Sequence out) throws IOException;
 	
 	/**
-	 * ǰд
-	 * @param vdb ݿ
-	 * @return 0ɹ
+	 * 锁定当前节用来写入数据
+	 * @param vdb 数据库对象
+	 * @return 0：成功
 	 */
 	abstract public int lockForWrite(VDB vdb);
 	
 	/**
-	 * ǰ
-	 * @param vdb ݿ
+	 * 解锁当前节
+	 * @param vdb 数据库对象
 	 */
 	abstract public void unlock(VDB vdb);
 	
 	/**
-	 * عǰ޸
-	 * @param library ݿ
+	 * 回滚当前事务所做的修改
+	 * @param library 数据库对象
 	 */
 	abstract public void rollBack(Library library);
 	
 	/**
-	 * ֵǰ
-	 * @param vdb ݿ
-	 * @param value ֵͨ
+	 * 保存值到当前表单中
+	 * @param vdb 数据库对象
+	 * @param value 值，通常是排列
 	 * @return
 	 */
 	abstract public int save(VDB vdb, Object value);
 
 	/**
-	 * ֵӱ
-	 * @param vdb ݿ
-	 * @param value ֵͨ
-	 * @param path ӽֵӽֵ
-	 * @param name ӽӽ
-	 * @return 0ɹ
+	 * 保存值到子表单中
+	 * @param vdb 数据库对象
+	 * @param value 值，通常是排列
+	 * @param path 子节值或子节值序列
+	 * @param name 子节名或子节名序列
+	 * @return 0：成功
 	 */
 	abstract public int save(VDB vdb, Object value, Object path, Object name);
 	
 	/**
-	 * ·
-	 * @param vdb ݿ
-	 * @param path ӽֵӽֵ
-	 * @param name ӽӽ
-	 * @return 0ɹ
+	 * 创建子路径
+	 * @param vdb 数据库对象
+	 * @param path 子节值或子节值序列
+	 * @param name 子节名或子节名序列
+	 * @return 0：成功
 	 */
 	abstract public int makeDir(VDB vdb, Object path, Object name);
 	
 	/**
-	 * 
-	 * @param vdb ݿ
-	 * @param key 
-	 * @param len ϣ
-	 * @return 0ɹ
+	 * 创建键库节
+	 * @param vdb 数据库对象
+	 * @param key 键库名称
+	 * @param len 哈希长度
+	 * @return 0：成功
 	 */
 	abstract public int createSubKeyDir(VDB vdb, Object key, int len);
 	
 	/**
-	 * 渽ͨͼƬ
-	 * @param vdb ݿ
-	 * @param oldValues һεôκķֵ
-	 * @param newValues ޸ĺֵ
-	 * @param name 
-	 * @return ֵУһεô˺
+	 * 保存附件，通常是图片
+	 * @param vdb 数据库对象
+	 * @param oldValues 上一次调用次函数的返回值
+	 * @param newValues 修改后的值
+	 * @param name 节名
+	 * @return 值序列，用于下一次调用此函数
 	 */
 	abstract public Sequence saveBlob(VDB vdb, Sequence oldValues, Sequence newValues, String name);
 
 	/**
-	 * ֵֶָ
-	 * @param vdb ݿ
-	 * @param dirNames ·
-	 * @param dirValues ·ֵ
-	 * @param valueSigns trueĿ¼ʱĿ¼ֵnullѡֵnullĿ¼falseʡĿ¼ֵԴĿ¼
-	 * @param fvals Ҫ޸ĵֵֶ
-	 * @param fields Ҫ޸ĵֶ
-	 * @param exp ʽ
-	 * @param isRecursion trueȥ·ȱʡ漰㼴ֹͣ
-	 * @param ctx 
-	 * @return 0ɹ
+	 * 更新指定表单里的字段值
+	 * @param vdb 数据库对象
+	 * @param dirNames 路径名数组
+	 * @param dirValues 路径值数组
+	 * @param valueSigns true：对目录提条件，此时如果传入的目录值是null，则会选值是null的目录，false：省略目录值，即不对此目录提条件
+	 * @param fvals 表单里要修改的字段值数组
+	 * @param fields 表单里要修改的字段名数组
+	 * @param exp 条件表达式
+	 * @param isRecursion true：归去找子路径，缺省将读到参数所涉及层即停止
+	 * @param ctx 计算上下文
+	 * @return 0：成功
 	 */
 	abstract public int update(VDB vdb, String []dirNames, Object []dirValues, boolean []valueSigns, 
 			Object []fvals, String []fields, Expression exp, boolean isRecursion, Context ctx);
 		
 	/**
-	 * ɾǰ
-	 * @param vdb ݿ
-	 * @return 0ɹ
+	 * 删除当前节
+	 * @param vdb 数据库对象
+	 * @return 0：成功
 	 */
 	abstract public int delete(VDB vdb);
 	
 	/**
-	 * ݿάִд˲ʱӦֹͣ
-	 * ˽ڵΪɾɾ˽ڵµĿӽڵ
-	 * @param vdb ݿ
-	 * @return trueпĿ¼ɾfalseû
+	 * 用于数据库的维护，执行此操作时应该停止服务
+	 * 如果此节点为空则删除，否则删除此节点下的空子节点
+	 * @param vdb 数据库对象
+	 * @return true：有空目录被删除，false：没有
 	 */
 	abstract public boolean deleteNullSection(VDB vdb);
 	
 	/**
-	 * ƶǰڵָĿ¼
-	 * @param vdb ݿ
-	 * @param dest Ŀ·
-	 * @param value ½ֵʡԭĽֵ
-	 * @return 0ɹ
+	 * 移动当前节到指定目录下
+	 * @param vdb 数据库对象
+	 * @param dest 目标路径
+	 * @param value 新节值，省略用原来的节值
+	 * @return 0：成功
 	 */
 	abstract public int move(VDB vdb, Section dest, Object value);
 		
 	/**
-	 * ɾʱĲٱõλ
-	 * @param library ݿ
-	 * @param outerSeq 
-	 * @param txSeq ڴ
+	 * 删除超时的不会再被引用到的区位
+	 * @param library 数据库对象
+	 * @param outerSeq 外存号
+	 * @param txSeq 内存号
 	 */
 	abstract public void deleteOutdatedZone(Library library, int outerSeq, long txSeq);
 	
 	/**
-	 * ύ
-	 * @param library ݿ
-	 * @param outerSeq 
-	 * @param innerSeq ڴ
+	 * 提交事务
+	 * @param library 数据库对象
+	 * @param outerSeq 外存号
+	 * @param innerSeq 内存号
 	 * @throws IOException
 	 */
 	abstract public void commit(Library library, int outerSeq, long innerSeq) throws IOException;
 	
 	/**
-	 * ȡǰڵύʱ
-	 * @return ʱֵ
+	 * 取当前节的提交时间
+	 * @return 时间值
 	 */
 	abstract public long getCommitTime();
 	
 	/**
-	 * 
-	 * @param vdb ݿ
-	 * @param path ӽֵӽֵ
-	 * @param name ӽӽ
-	 * @return 0ɹ
+	 * 重命名节名
+	 * @param vdb 数据库对象
+	 * @param path 子节值或子节值序列
+	 * @param name 子节名或子节名序列
+	 * @return 0：成功
 	 */
 	abstract public int rename(VDB vdb, Object path, String name);
 	
 	/**
-	 * ɨѾ飬ڴ洢
-	 * @param library ݿ
-	 * @param manager 
+	 * 扫描已经的物理块，用于存储分配
+	 * @param library 数据库对象
+	 * @param manager 块管理器
 	 * @throws IOException
 	 */
 	abstract public void scanUsedBlocks(Library library, BlockManager manager) throws IOException;
 	
 	/**
-	 * ͷŻĽڶͷڴ
+	 * 释放缓存的节对象，用于释放内存
 	 */
 	abstract public void releaseSubSection();
 	
 	/**
-	 * ݿݵ¿
-	 * @param srcLib Դ
-	 * @param destLib Ŀ
-	 * @param destHeader Ŀ׿
+	 * 整理数据库数据到新库
+	 * @param srcLib 源库
+	 * @param destLib 目标库
+	 * @param destHeader 目标库首块
 	 * @throws IOException
 	 */
 	abstract public void reset(Library srcLib, Library destLib, int destHeader) throws IOException;
 	
 	/**
-	 * ڶ
-	 * @param library Դ
-	 * @param header ׿λ
-	 * @param dir ·
-	 * @return ڶ
+	 * 读入节对象
+	 * @param library 源库
+	 * @param header 节首块位置
+	 * @param dir 路径
+	 * @return 节对象
 	 */
 	public static ISection read(Library library, int header, Dir dir) {
 		try {
@@ -8,245 +8,245 @@ import com.scudata.dm.Table;
 import com.scudata.expression.Expression;
 
 /**
- * ݿӽӿ
+ * 数据库连接接口
  * @author RunQian
  *
  */
 public interface IVS {
 	/**
-	 * ȡӶӦĸ
+	 * 取连接对应的根连接
 	 * @return VDB
 	 */
 	VDB getVDB();
 	
 	/**
-	 * ȡӵĵǰ
+	 * 取连接的当前节
 	 * @return ISection
 	 */
 	ISection getHome();
 	
 	// 
 	/**
-	 * õǰ·дڴ·
+	 * 设置当前路径，后续读写操作将相对于此路径
 	 * @param path
 	 * @return IVS
 	 */
 	IVS home(Object path);
 	
 	/**
-	 * صǰ·
+	 * 返回当前路径
 	 * @param opt
 	 * @return Object
 	 */
 	Object path(String opt);
 
 	/**
-	 * סǰ·
-	 * @param opt ѡr·򶼼дu
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 锁住当前路径
+	 * @param opt 选项，r：整个路径域都加写锁，u：解锁
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int lock(String opt);
 	
 	/**
-	 * סָ·
-	 * @param path ··
-	 * @param opt ѡr·򶼼дu
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 锁住指定路径
+	 * @param path 路径或路径序列
+	 * @param opt 选项，r：整个路径域都加写锁，u：解锁
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int lock(Object path, String opt);
 	
 	/**
-	 * гǰ·µļس
-	 * @param opt ѡdгĿ¼wļĿ¼ȫгlȼ
+	 * 列出当前路径下的子文件，返回成序列
+	 * @param opt 选项，d：列出子目录，w：不区分文件和目录全部列出，l：先加锁
 	 * @return Sequence
 	 */
 	Sequence list(String opt);
 	
 	/**
-	 * гָ·µļس
-	 * @param path ··
-	 * @param opt ѡdгĿ¼wļĿ¼ȫгlȼ
+	 * 列出指定路径下的子文件，返回成序列
+	 * @param path 路径或路径序列
+	 * @param opt 选项，d：列出子目录，w：不区分文件和目录全部列出，l：先加锁
 	 * @return Sequence
 	 */
 	Sequence list(Object path, String opt);
 	
 	/**
-	 * ǰ
-	 * @param opt ѡlȼ
+	 * 读当前表单的数据
+	 * @param opt 选项，l：先加锁
 	 * @return Object
 	 */
 	Object load(String opt);
 	
 	/**
-	 * ָ·ı
-	 * @param path ··
-	 * @param opt ѡlȼ
+	 * 读指定路径的表单的数据
+	 * @param path 路径或路径序列
+	 * @param opt 选项，l：先加锁
 	 * @return Object
 	 */
 	Object load(Object path, String opt);
 	
 	/**
-	 * ·ύʱ
+	 * 返回路径的最新提交时刻
 	 * @return Timestamp
 	 */
 	Timestamp date();
 
 	/**
-	 * д뵽ǰ
-	 * @param value 
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 把数据写入到当前表单
+	 * @param value 数据
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int save(Object value);
 	
 	/**
-	 * д뵽ָ·ı
-	 * @param value 
-	 * @param path ··
-	 * @param name ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 把数据写入到指定路径的表单
+	 * @param value 数据
+	 * @param path 路径或路径序列
+	 * @param name 路径名或路径名序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int save(Object value, Object path, Object name);
 
 	/**
-	 * ǰ·аֶָεı
-	 * @param fields ֶ
-	 * @return 
+	 * 读出当前路径下所有包含指定字段的表单的数据
+	 * @param fields 字段名数组
+	 * @return 序表
 	 */
 	Table importTable(String []fields);
 	
 	 /**
-	  *  ǰ·аֶָεı
-	  * @param fields ֶ
-	  * @param filters ˱ʽ
-	  * @param ctx 
-	  * @return 
+	  *  读出当前路径下所有包含指定字段的表单的数据
+	  * @param fields 字段名数组
+	  * @param filters 过滤表达式数组
+	  * @param ctx 计算上下文
+	  * @return 序表
 	  */
 	Table importTable(String []fields, Expression []filters, Context ctx);
 	
 	/**
-	 * ѡΪɾڵ㣬ѡΪeɾµĿӽڵ
-	 * @param opt eֻɾµĿսڵ
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 如果选项为空则删除节点，如果选项为“e”则删除其下的空子节点
+	 * @param opt e：只删除其下的空节点
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
-	int delete(String opt); // ɾ
+	int delete(String opt); // 删除节
 	
 	/**
-	 * ѡΪɾڵ㣬ѡΪeɾµĿӽڵ
-	 * @param path ··
-	 * @param opt eֻɾµĿսڵ
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 如果选项为空则删除节点，如果选项为“e”则删除其下的空子节点
+	 * @param path 路径或路径序列
+	 * @param opt e：只删除其下的空节点
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
-	int delete(Object path, String opt); // ɾ
+	int delete(Object path, String opt); // 删除节
 	
 	/**
-	 * ɾ
+	 * 删除多节
 	 * @param paths
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int deleteAll(Sequence paths);
 	
 	/**
-	 * ƶĿ¼ָĿ¼
-	 * @param srcPath Դ··
-	 * @param destPath Ŀ··
-	 * @param name Ŀ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 移动目录到指定目录
+	 * @param srcPath 源路径或路径序列
+	 * @param destPath 目标路径或路径序列
+	 * @param name 目标路径名或路径名序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int move(Object srcPath, Object destPath, Object name);
 	
 	/**
-	 * Ŀ¼
-	 * @param path ··
-	 * @param name ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 创建目录
+	 * @param path 路径或路径序列
+	 * @param name 路径名或路径名序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int makeDir(Object path, Object name);
 	
 	/**
-	 * ݿжȡֶ׷ӵָ
-	 * @param seq 
-	 * @param pathExp ·ʽ
-	 * @param fields Ҫȡֶ
-	 * @param filter ˱ʽ
-	 * @param ctx 
-	 * @return 
+	 * 从数据库中读取其它字段追加到指定排列上
+	 * @param seq 排列
+	 * @param pathExp 路径表达式
+	 * @param fields 要读取的字段名数组
+	 * @param filter 过滤表达式
+	 * @param ctx 计算上下文
+	 * @return 结果集序表
 	 */
 	Table read(Sequence seq, Expression pathExp, String []fields, Expression filter, Context ctx);
 	
 	/**
-	 * еֶָд뵽
-	 * @param seq 
-	 * @param pathExp ·ʽ
-	 * @param fieldExps ֵֶʽ
-	 * @param fields ֶ
-	 * @param filter ˱ʽ
-	 * @param ctx 
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 把排列的指定字段写入到表单
+	 * @param seq 排列
+	 * @param pathExp 路径表达式
+	 * @param fieldExps 字段值表达式数组
+	 * @param fields 字段名数组
+	 * @param filter 过滤表达式
+	 * @param ctx 计算上下文
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int write(Sequence seq, Expression pathExp, Expression []fieldExps, 
 			String []fields, Expression filter, Context ctx);
 
 	/**
-	 * 
-	 * @param dirNames ·
-	 * @param dirValues ·ֵ飬ڹ
-	 * @param valueSigns trueĿ¼ʱĿ¼ֵnullѡֵnullĿ¼falseʡĿ¼ֵԴĿ¼
-	 * @param fields Ҫֶ
-	 * @param filter 
-	 * @param opt ѡrȥ·ȱʡ漰㼴ֹͣ
-	 * @param ctx 
-	 * @return 
+	 * 根据条件检索数据
+	 * @param dirNames 路径名数组
+	 * @param dirValues 路径值数组，用于过滤
+	 * @param valueSigns true：对目录提条件，此时如果传入的目录值是null，则会选值是null的目录，false：省略目录值，即不对此目录提条件
+	 * @param fields 单据中要读的字段名数组
+	 * @param filter 过滤条件
+	 * @param opt 选项，r：归去找子路径，缺省将读到参数所涉及层即停止
+	 * @param ctx 计算上下文
+	 * @return 结果集排列
 	 */
 	Sequence retrieve(String []dirNames, Object []dirValues, boolean []valueSigns,
 			String []fields, Expression filter, String opt, Context ctx);
 	
 	/**
-	 * ҳĵݺдݵֵֶ
-	 * @param dirNames ·
-	 * @param dirValues ·ֵ飬ڹ
-	 * @param valueSigns trueĿ¼ʱĿ¼ֵnullѡֵnullĿ¼falseʡĿ¼ֵԴĿ¼
-	 * @param fvals еֵֶ
-	 * @param fields еֶ
-	 * @param filter 
-	 * @param opt ѡrȥ·ȱʡ漰㼴ֹͣ
-	 * @param ctx 
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 找出满足条件的单据后改写单据的字段值
+	 * @param dirNames 路径名数组
+	 * @param dirValues 路径值数组，用于过滤
+	 * @param valueSigns true：对目录提条件，此时如果传入的目录值是null，则会选值是null的目录，false：省略目录值，即不对此目录提条件
+	 * @param fvals 单据中的字段值数组
+	 * @param fields 单据中的字段名数组
+	 * @param filter 过滤条件
+	 * @param opt 选项，r：归去找子路径，缺省将读到参数所涉及层即停止
+	 * @param ctx 计算上下文
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int update(String []dirNames, Object []dirValues, boolean []valueSigns, 
 			Object []fvals, String []fields, Expression filter, String opt, Context ctx);
 	
 	/**
-	 * 渽ͨͼƬ
-	 * @param oldValues һεôκķֵ
-	 * @param newValues ޸ĺֵ
-	 * @param path ··
-	 * @param name ··
-	 * @return ֵУһεô˺
+	 * 保存附件，通常是图片
+	 * @param oldValues 上一次调用次函数的返回值
+	 * @param newValues 修改后的值
+	 * @param path 路径或路径序列
+	 * @param name 路径名或路径名序列
+	 * @return 值序列，用于下一次调用此函数
 	 */
 	Sequence saveBlob(Sequence oldValues, Sequence newValues, Object path, String name);
 	
 	/**
-	 * ·
-	 * @param ··
-	 * @param ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 重新命名路径名
+	 * @param 路径或路径序列
+	 * @param 路径名或路径名序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int rename(Object path, String name);
 	
 	/**
-	 * 鵵ָ·鵵·дռõĿռСѯٶȻ
-	 * @param path ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 归档指定路径，归档后路径不可再写，占用的空间会变小，查询速度会变快
+	 * @param path 路径或路径序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int archive(Object path);
 	
 	/**
-	 * ·ָ·
-	 * @param destPath Ŀ··
-	 * @param destName Ŀ··
-	 * @param src Դݿ
-	 * @param srcPath Դ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 复制路径到指定路径下
+	 * @param destPath 目标路径或路径序列
+	 * @param destName 目标路径名或路径名序列
+	 * @param src 源数据库连接
+	 * @param srcPath 源路径或路径序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	int copy(Object destPath, Object destName, IVS src, Object srcPath);
 }
@@ -22,64 +22,64 @@ import com.scudata.util.Variant;
 
 
 /**
- * ݿ⣬ļϵͳṹһĿ¼ͱ
+ * 物理数据库，采用类文件系统结构，由一层层的目录和表单构成
  * @author RunQian
  *
  */
 public class Library {
-	public static final long MAXWAITTIME = 8000; // ȴʱ䣬λ
+	public static final long MAXWAITTIME = 8000; // 锁的最大等待时间，单位毫秒
 	
-	// ֳԼС飬ռΪλ
+	// 物理库分成约定大小的区块，空间分配以区块为单位增长
 	public static final int BLOCKSIZE = 1024;
-	public static final int ENLARGE_BLOCKCOUNT = 1024 * 8; // ļ̫СʱÿӵĿ
+	public static final int ENLARGE_BLOCKCOUNT = 1024 * 8; // 文件太小时每次增加的块数
 	
-	// ̨Ż̵߳˯ʱ
-	private static final long SLEEPTIME = 2 * 60 * 1000; // 2
+	// 后台性能优化线程的睡眠时间
+	private static final long SLEEPTIME = 2 * 60 * 1000; // 2分钟
 	
-	// ɨʹļʱ
-	private static final long SCANFILEINTERVAL = 60 * 60 * 1000; // 1Сʱ
+	// 扫描物理块使用情况的间隔时间
+	private static final long SCANFILEINTERVAL = 60 * 60 * 1000; // 1小时
 	
-	// LibraryvdbʱȵݿǷѾ
+	// 存放启动的Library，创建vdb时先到这里查找数据库是否已经启动
 	private static ParamList libList = new ParamList();
 	
-	// ļͷϢ
-	private long createTime; // ʱ
-	private long startTime; // ʱ
-	private long stopTime; // ֹͣʱ
-	private int rootHeaderBlock = 1; // ׿λ
+	// 文件头信息
+	private long createTime; // 创建时间
+	private long startTime; // 启动时间
+	private long stopTime; // 停止时间
+	private int rootHeaderBlock = 1; // 根首块位置
 	
-	// źڴȷһ
-	private int outerTxSeq = 1; // ţÿݿ1
-	private transient long innerTxSeq = 0; // ڴύţύż1
-	private transient long loadTxSeq = 0; // ţǰûύinnerTxSeqinnerTxSeq-1
+	// 由外存号和内存号两个组合起来确定事务一致性
+	private int outerTxSeq = 1; // 外存号，每次启动数据库加1
+	private transient long innerTxSeq = 0; // 内存提交号，串行提交，事务号加1
+	private transient long loadTxSeq = 0; // 读事务号，如果当前没有提交任务则等于innerTxSeq，否则等于innerTxSeq-1
 	
-	private String pathName; // Ӧļ·
-	private RandomAccessFile file; // ļ
+	private String pathName; // 对应的物理文件路径名
+	private RandomAccessFile file; // 物理文件
 	private FileChannel channel;
-	private boolean isStarted = false; // Ƿ
+	private boolean isStarted = false; // 是否已启动
 	
-	private BlockManager blockManager; // տ
-	private LinkedList<VDB> vdbList = new LinkedList<VDB>(); // 
-	private ISection rootSection; // 
+	private BlockManager blockManager; // 空块管理器
+	private LinkedList<VDB> vdbList = new LinkedList<VDB>(); // 活动的链接
+	private ISection rootSection; // 根节
 	
-	// û¼ʱ
+	// 最近用户登录时间
 	private volatile long lastConnectTime = System.currentTimeMillis();
-	private OptimizeThread optThread; // Ż߳
+	private OptimizeThread optThread; // 性能优化线程
 	
-	// Ẓ̇߳ͷڴ ɨʹ
+	// 性能优化线程，用于释放内存和 扫描物理块使用情况
 	private class OptimizeThread extends Thread {
-		private long scanTime = 0; // ϴɨʱ
-		private volatile boolean userOn; // ɨļǷû¼
-		private BlockManager manager = null; // 
+		private long scanTime = 0; // 上次物理块扫描时间
+		private volatile boolean userOn; // 扫描文件过程中是佛有新用户登录
+		private BlockManager manager = null; // 物理块管理器
 		
 		/**
-		 * ӵ¼
+		 * 有新连接登录
 		 */
 		public void setUserOn() {
 			userOn = true;
 			
 			if (manager != null) {
-				// ֹͣɨ
+				// 停止扫描物理块
 				manager.stop();
 			}
 		}
@@ -99,7 +99,7 @@ public class Library {
 		private void doWork() throws IOException {
 			boolean sign = false;
 			synchronized(vdbList) {
-				// ûִж
+				// 如果没有连接则执行清理条件判断
 				if (vdbList.size() == 0) {
 					long now = System.currentTimeMillis();
 					sign = now - lastConnectTime > SLEEPTIME && lastConnectTime - scanTime > SCANFILEINTERVAL;
@@ -107,7 +107,7 @@ public class Library {
 						userOn = false;
 						manager = new BlockManager(Library.this);
 					} else {
-						// ͷڴеĽڵ
+						// 释放内存中的节点
 						rootSection.releaseSubSection();
 						return;
 					}
@@ -117,10 +117,10 @@ public class Library {
 			manager.doThreadScan();
 			synchronized(vdbList) {
 				if (vdbList.size() == 0) {
-					// ͷڴеĽڵ
+					// 释放内存中的节点
 					rootSection.releaseSubSection();
 					
-					// ɨڼûµɨɹ
+					// 扫描期间没有新的连接则扫描成功完成
 					if (!userOn) {
 						scanTime = lastConnectTime;
 						blockManager = manager;
@@ -133,14 +133,14 @@ public class Library {
 	}
 	
 	/**
-	 * ݿ
+	 * 构建物理数据库
 	 * @param pathName
 	 */
 	public Library(String pathName) {
 		this.pathName = pathName;
 	}
 	
-	// ͱõ·бܡбܻˣȥб
+	// 集算器和报表配置的路径可能斜杠、反斜杠混乱了，去掉斜杠
 	private static String getParamName(String path) {
 		String paramName = path.replace('\\', '/');
 		return paramName.toLowerCase();
@@ -154,7 +154,7 @@ public class Library {
 			if (p != null) {
 				library = (Library)p.getValue();
 			} else {
-				System.out.println("ݿ⣺" + pathName);
+				System.out.println("启动数据库：" + pathName);
 				library = new Library(pathName);
 				library.start();
 				libList.add(new Param(paramName, Param.VAR, library));
@@ -173,8 +173,8 @@ public class Library {
 	}
 	
 	/**
-	 * ļָС
-	 * @param size С
+	 * 扩大物理文件到指定大小
+	 * @param size 大小
 	 */
 	void enlargeFile(long size) {
 		try {
@@ -194,7 +194,7 @@ public class Library {
 		return blockManager.applyHeaderBlock();
 	}
 	
-	// ָ
+	// 回收指定物理块
 	void recycleBlock(int block) {
 		blockManager.recycleBlock(block);
 	}
@@ -203,7 +203,7 @@ public class Library {
 		blockManager.recycleBlocks(blocks);
 	}
 
-	// ݿ
+	// 回收数据块
 	void recycleData(int block) {
 		try {
 			int []blocks = readOtherBlocks(block);
@@ -218,8 +218,8 @@ public class Library {
 	}
 
 	/**
-	 * ݿ
-	 * @return trueɹfalseʧ
+	 * 启动数据库
+	 * @return true：成功，false：失败
 	 */
 	public synchronized boolean start() {
 		if (file != null) {
@@ -295,7 +295,7 @@ public class Library {
 		isStarted = false;
 		rootSection = null;
 		
-		// ѵǰӿбɾ
+		// 把当前库从库列表中删除
 		synchronized(libList) {
 			for (int i = 0; i < libList.count(); ++i) {
 				Param param = libList.get(i);
@@ -306,7 +306,7 @@ public class Library {
 			}
 		}
 		
-		// ȴύ
+		// 等待正在提交的任务完成
 		synchronized(file) {
 			try {
 				writeDBHeader(file);
@@ -316,7 +316,7 @@ public class Library {
 			}
 		}
 		
-		// ʱϢ
+		// 保存临时信息
 		if (sign) {
 			writeTempFile();
 		}
@@ -329,25 +329,25 @@ public class Library {
 	}
 	
 	/**
-	 * رݿ
-	 * @return trueɹfalseʧ
+	 * 关闭数据库
+	 * @return true：成功，false：失败
 	 */
 	public synchronized boolean stop() {
 		return stop(true);
 	}
 
-	// ݿ״̬дʱļΪŻ´εٶȣûдʱļʱҪɨ
+	// 把数据库状态写到临时文件，为了优化下次的启动速度，如果没有写临时文件则启动的时候需要扫描物理块
 	private void writeTempFile() {
 		RandomAccessFile tempFile = null;
 		try {
 			tempFile = new RandomAccessFile(pathName + ".tmp", "rw");
 			tempFile.seek(0);
-			tempFile.writeInt(0); // ־ɹٸĳ1
+			tempFile.writeInt(0); // 标志，成功后再改成1
 			tempFile.writeLong(stopTime);
 			blockManager.writeTempFile(tempFile);
 			
 			tempFile.seek(0);
-			tempFile.writeInt(1); // ־ɹٸĳ1
+			tempFile.writeInt(1); // 标志，成功后再改成1
 		} catch (IOException e) {
 		} finally {
 			try {
@@ -360,19 +360,19 @@ public class Library {
 	}
 	
 	/**
-	 * ȡݿǷ
-	 * @return truefalseδ
+	 * 取数据库是否已启动
+	 * @return true：已启动，false：未启动
 	 */
 	public synchronized boolean isStarted() {
 		return isStarted;
 	}
 	
-	// ȡȡţֻλСڵڴ˺ŵĲſ
+	// 取读取事务号，只有区位的事务号小于等于此号的才可用
 	synchronized long getLoadTxSeq() {
 		return loadTxSeq;
 	}
 
-	// ύɺύź
+	// 提交完成后增加提交号和事务号
 	synchronized void addTxSeq() {
 		loadTxSeq = ++innerTxSeq;
 	}
@@ -381,17 +381,17 @@ public class Library {
 		return innerTxSeq + 1;
 	}
 	
-	// ȡ
+	// 取外存号
 	int getOuterTxSeq() {
 		return outerTxSeq;
 	}
 	
-	// ȡڵ
+	// 取根节点
 	ISection getRootSection() {
 		return rootSection;
 	}
 
-	// дļͷ
+	// 写文件头
 	private void writeDBHeader(RandomAccessFile file) throws IOException {
 		file.seek(0);
 		byte []signs = new byte[]{'r', 'q', 'v', 'd', 'b'};
@@ -404,18 +404,18 @@ public class Library {
 		stopTime = System.currentTimeMillis();
 		file.writeLong(stopTime);
 		
-		// 浽Ӳ
+		// 保存到硬盘
 		channel.force(false);
 	}
 	
-	// ļͷ
+	// 读文件头
 	private void readDBHeader(RandomAccessFile file)  throws IOException {
 		file.seek(0);
 		if (file.read() != 'r' || file.read() != 'q' || file.read() != 'v' || 
 				file.read() != 'd' || file.read() != 'b') {
 			file.close();
 			file = null;
-			throw new RQException("Ƿݿļ");
+			throw new RQException("非法的数据库文件");
 		}
 		
 		createTime = file.readLong();
@@ -426,12 +426,12 @@ public class Library {
 	}
 	
 	/**
-	 * һ
+	 * 创建一个连接
 	 * @return VDB
 	 */
 	public VDB createVDB() {
 		if (!isStarted()) {
-			throw new RQException("ݿδ");
+			throw new RQException("数据库尚未启动");
 		}
 		
 		VDB vdb = new VDB(this);
@@ -445,7 +445,7 @@ public class Library {
 	}
 	
 	/**
-	 * ӹرգɾ
+	 * 连接关闭，删除连接
 	 * @param vdb
 	 */
 	void deleteVDB(VDB vdb) {
@@ -455,14 +455,14 @@ public class Library {
 		}
 	}
 
-	// ޸ύݿ
+	// 把修改提交到数据库
 	int commit(VDB vdb) {
 		ArrayList<ISection> modifySections = vdb.getModifySections();
 		if (modifySections.size() == 0) {
 			return VDB.S_SUCCESS;
 		}
 		
-		// ɾtxSeqĶλ
+		// 删除比事务号txSeq早的多余的区位
 		long txSeq = getEarliestTxSeq();
 		int outerSeq = getOuterTxSeq();
 		
@@ -477,10 +477,10 @@ public class Library {
 					section.commit(this, outerSeq, innerSeq);
 				}
 				
-				// ύɺ¶
+				// 提交完成后更新读事务号
 				addTxSeq();
 
-				// 浽Ӳ
+				// 保存到硬盘
 				channel.force(false);
 			} catch (Exception e) {
 				e.printStackTrace();
@@ -492,7 +492,7 @@ public class Library {
 	}
 
 	/**
-	 * ع޸
+	 * 回滚连接所做的修改
 	 * @param vdb
 	 */
 	void rollback(VDB vdb) {
@@ -507,14 +507,14 @@ public class Library {
 	}
 	
 	private int getBlockCount(int dataLen) {
-		// ָȵҪ飬׿ͷҪд׿...
+		// 计算存指定长度的数据需要多少物理块，首块头需要写：除首块外的其它物理块数、物理块号...
 		// count + block1,...
 		int count = dataLen / (BLOCKSIZE - 4);
 		int mod = dataLen % (BLOCKSIZE - 4);
 		return mod != 0 ? count + 1 : count;
 	}
 	
-	// block0ʼ
+	// block从0开始计数
 	private long getBlockPos(int block) {
 		return (long)BLOCKSIZE * block;
 	}
@@ -522,7 +522,7 @@ public class Library {
 	private static byte[] toByteArray(Object data) throws IOException {
 		ByteArrayOutputStream bos = new ByteArrayOutputStream(BLOCKSIZE);
 		ObjectWriter writer = new ObjectWriter(bos);
-		writer.writeByte(0); // 汾
+		writer.writeByte(0); // 版本
 		
 		if (data instanceof Record) {
 			Sequence seq = new Sequence(1);
@@ -536,9 +536,9 @@ public class Library {
 		return bos.toByteArray();
 	}
 	
-	// дָ
+	// 把数据写到指定物理块
 	private void writeBlocks(int []blocks, byte []data) throws IOException {
-		// ׿n+1,...,n
+		// 除首块外的其它物理块数n+物理块号1,...,物理块号n
 		int count = blocks.length;
 		int headerSize = count * 4;
 		RandomAccessFile file = this.file;
@@ -547,7 +547,7 @@ public class Library {
 			file.seek(getBlockPos(blocks[0]));
 			file.writeInt(count - 1);
 			
-			// ͷСܳһ
+			// 头大小可能超过一块
 			int b = 0;
 			int pos = headerSize;
 			
@@ -582,7 +582,7 @@ public class Library {
 						file.write(data, index, BLOCKSIZE);
 						index += BLOCKSIZE;
 					} else {
-						// һ
+						// 最后一块
 						file.write(data, index, len - index);
 					}
 				}
@@ -590,8 +590,8 @@ public class Library {
 		}
 	}
 	
-	// ռõݣռö
-	// ׿n+1,...,n
+	// 读数据占用的物理块内容，可能占用多物理块
+	// 除首块外的其它物理块数n+物理块号1,...,物理块号n
 	byte[] readBlocks(int block) throws IOException {
 		RandomAccessFile file = this.file;
 		synchronized(file) {
@@ -640,7 +640,7 @@ public class Library {
 		}
 	}
 		
-	// ߼ռõ
+	// 读逻辑块占用的其它物理块
 	int[] readOtherBlocks(int block) throws IOException {
 		RandomAccessFile file = this.file;
 		synchronized(file) {
@@ -670,7 +670,7 @@ public class Library {
 		}
 	}
 	
-	// ׿
+	// 返回首块号
 	int writeDataBlock(int pos, Object data) {
 		try {
 			byte []bytes = toByteArray(data);
@@ -680,7 +680,7 @@ public class Library {
 		}
 	}
 	
-	// дָ
+	// 把数据写到指定物理块
 	int writeDataBlock(int pos, byte []bytes) throws IOException {
 		int blockCount = getBlockCount(bytes.length);
 		int []blocks = blockManager.applyDataBlocks(pos, blockCount);
@@ -688,7 +688,7 @@ public class Library {
 		return blocks[0];
 	}
 	
-	// ݿ
+	// 读数据块
 	Object readDataBlock(int block) throws IOException {
 		byte[] bytes = readBlocks(block);
 		ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
@@ -699,7 +699,7 @@ public class Library {
 			reader.readInt32();
 		}
 		
-		reader.readByte(); // 汾
+		reader.readByte(); // 版本
 		Object data = reader.readObject();
 		reader.close();
 		return data;
@@ -751,7 +751,7 @@ public class Library {
 		}
 	}
 	
-	// ȡvdbţٱʵλ
+	// 取所有vdb中最早的事务号，用于清理不会再被访问的区位
 	long getEarliestTxSeq() {
 		long seq = getLoadTxSeq();
 		VDB []vdbs;
@@ -771,9 +771,9 @@ public class Library {
 	}
 	
 	/**
-	 * ⣬ùϣҽ
-	 * @param keys 
-	 * @param lens ϣ
+	 * 创建键库，键库会采用哈希法查找节
+	 * @param keys 键库名
+	 * @param lens 哈希容量数组
 	 */
 	public int createKeyLibrary(Object []keys, int []lens) {
 		int count = keys.length;
@@ -806,12 +806,12 @@ public class Library {
 	}
 	
 	/**
-	 * ݿݵĿļ
-	 * @param destFileName Ŀļ·
-	 * @return trueɹfalseʧ
+	 * 整理数据库数据到目标文件
+	 * @param destFileName 目标文件路径名
+	 * @return true：成功，false：失败
 	 */
 	public boolean reset(String destFileName) {
-		// һVDBֹOptimizeThread
+		// 创建一个VDB，阻止OptimizeThread工作
 		VDB vdb = createVDB();
 		Library dest = new Library(destFileName);
 		
@@ -15,19 +15,19 @@ import com.scudata.expression.Expression;
 import com.scudata.resources.EngineMessage;
 
 /**
- * ݿĽ
+ * 数据库里的节
  * @author WangXiaoJun
  *
  */
 class Section extends ISection {
-	private int header; // ׿
-	private volatile HeaderBlock headerBlock; // ׿ݣʵõʱ
+	private int header; // 首块号
+	private volatile HeaderBlock headerBlock; // 首块内容，实际用的时候再生成
 	
-	private Dir dir; // ڶӦĿ¼Ϣ
-	private volatile VDB lockVDB; // ǰڵ߼
-	private boolean isModified; // Ƿ޸
+	private Dir dir; // 节对应的目录信息
+	private volatile VDB lockVDB; // 锁定当前节的逻辑库
+	private boolean isModified; // 是否被修改了
 	
-	// ½
+	// 创建新节
 	public Section(Dir dir) {
 		headerBlock = new HeaderBlock();
 		this.dir = dir;
@@ -40,14 +40,14 @@ class Section extends ISection {
 		headerBlock.read(bytes, this);
 	}
 
-	// ݿȡ
+	// 从数据库读取节
 	/*public Section(Library library, int header, Dir dir) {
 		this.header = header;
 		this.dir = dir;
 		headerBlock = readHeaderBlock(library, header);
 	}
 
-	// ׿
+	// 读首块
 	private HeaderBlock readHeaderBlock(Library library, int block) {
 		try {
 			HeaderBlock headerBlock = new HeaderBlock();
@@ -64,7 +64,7 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ȡڶӦ·
+	 * 取节对应的路径对象
 	 * @return
 	 */
 	public IDir getDir() {
@@ -72,7 +72,7 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ش˽Ƿб
+	 * 返回此节是否有表单
 	 * @return
 	 */
 	public boolean isFile() {
@@ -80,7 +80,7 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ش˽Ƿ·Ƿ
+	 * 返回此节是否是路径，即是否有子
 	 * @return
 	 */
 	public boolean isDir() {
@@ -96,7 +96,7 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ȡڵĸ
+	 * 取节的父节
 	 * @return Section
 	 */
 	public Section getParentSection() {
@@ -108,10 +108,10 @@ class Section extends ISection {
 	}
 
 	/**
-	 * ȡӽ
-	 * @param vdb ݿ
-	 * @param path ·ֵ
-	 * @return ӽ
+	 * 取子节
+	 * @param vdb 数据库对象
+	 * @param path 子路径值
+	 * @return 子节
 	 */
 	public ISection getSub(VDB vdb, Object path) {
 		if (headerBlock.isKeySection()) {
@@ -133,12 +133,12 @@ class Section extends ISection {
 		return zone.getSection(vdb.getLibrary(), subDir);
 	}
 	
-	// һSection
+	// 锁定最后一个Section
 	private Section getSubForWrite(VDB vdb, Sequence paths, Sequence names) {
 		int pcount = paths.length();
 		int diff = pcount;
 		
-		// namesĳȿԱpathsΣӺǰӦ
+		// names的长度可以比paths段，从后向前对应
 		if (names != null) {
 			diff -= names.length();
 		}
@@ -157,9 +157,9 @@ class Section extends ISection {
 		return sub;
 	}
 		
-	// дʱλµģûϵ
-	// ޸·͵ȴ
-	// ·򴴽סû޸·isLockָʾǷ
+	// 写的时候找区位总是找最新的，跟事务号没关系
+	// 别的事务如果在修改路径就等待
+	// 如果路径不存在则创建并锁住，如果没有修改路径isLock指示是否加锁
 	private Section getSubForWrite(VDB vdb, Object path, String name) {
 		if (headerBlock.isKeySection()) {
 			Dir dir = headerBlock.getSubKeyDir(path);
@@ -209,10 +209,10 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ȡӽƶ
-	 * @param vdb ݿ
-	 * @param path ·ֵ
-	 * @return ӽ
+	 * 取子节用来做移动操作
+	 * @param vdb 数据库对象
+	 * @param path 子路径值
+	 * @return 子节
 	 */
 	public Section getSubForMove(VDB vdb, Object path) {
 		if (headerBlock.isKeySection()) {
@@ -236,10 +236,10 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ȡӽƶ
-	 * @param vdb ݿ
-	 * @param paths ·ֵ
-	 * @return ӽ
+	 * 取子节用来做移动操作
+	 * @param vdb 数据库对象
+	 * @param paths 子路径值序列
+	 * @return 子节
 	 */
 	public Section getSubForMove(VDB vdb, Sequence paths) {
 		Section sub = this;
@@ -254,7 +254,7 @@ class Section extends ISection {
 	}
 		
 	/**
-	 * סܲ޸Ȼ
+	 * 锁住但可能不修改然后解锁
 	 * @param vdb
 	 * @return
 	 */
@@ -265,7 +265,7 @@ class Section extends ISection {
 		} else if (lockVDB != vdb) {
 			try {
 				wait(Library.MAXWAITTIME);
-				if (lockVDB != null) { // ʱ
+				if (lockVDB != null) { // 超时
 					vdb.setError(VDB.S_LOCKTIMEOUT);
 					return VDB.S_LOCKTIMEOUT;
 				} else {
@@ -282,7 +282,7 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ס޸
+	 * 锁住并修改
 	 */
 	public synchronized int lockForWrite(VDB vdb) {
 		if (lockVDB == null) {
@@ -292,7 +292,7 @@ class Section extends ISection {
 		} else if (lockVDB != vdb) {
 			try {
 				wait(Library.MAXWAITTIME);
-				if (lockVDB != null) { // ʱ
+				if (lockVDB != null) { // 超时
 					vdb.setError(VDB.S_LOCKTIMEOUT);
 					return VDB.S_LOCKTIMEOUT;
 				} else {
@@ -310,7 +310,7 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ǰ
+	 * 解锁当前节
 	 */
 	public synchronized void unlock() {
 		isModified = false;
@@ -319,8 +319,8 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ǰ
-	 * @param vdb ݿ
+	 * 解锁当前节
+	 * @param vdb 数据库对象
 	 */
 	public synchronized void unlock(VDB vdb) {
 		if (lockVDB == vdb) {
@@ -335,8 +335,8 @@ class Section extends ISection {
 	}
 
 	/**
-	 * عǰ޸
-	 * @param library ݿ
+	 * 回滚当前事务所做的修改
+	 * @param library 数据库对象
 	 */
 	public void rollBack(Library library) {
 		if (isModified) {
@@ -347,10 +347,10 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * гǰеļ
-	 * @param vdb ݿ
-	 * @param opt dгĿ¼ڣwļĿ¼ȫгlǰ
-	 * @return ӽ
+	 * 列出当前节下所有的子文件节
+	 * @param vdb 数据库对象
+	 * @param opt d：列出子目录节，w：不区分文件和目录全部列出，l：锁定当前节
+	 * @return 子节序列
 	 */
 	public Sequence list(VDB vdb, String opt) {
 		Dir []dirs = headerBlock.getSubDirs();
@@ -397,10 +397,10 @@ class Section extends ISection {
 	}
 
 	/**
-	 * ȡǰڵı
-	 * @param vdb ݿ
-	 * @param opt lǰ
-	 * @return 
+	 * 读取当前节的表单
+	 * @param vdb 数据库对象
+	 * @param opt l：锁定当前节
+	 * @return 表单数据
 	 * @throws IOException
 	 */
 	public Object load(VDB vdb, String opt) throws IOException {
@@ -420,9 +420,9 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ֵǰ
-	 * @param vdb ݿ
-	 * @param value ֵͨ
+	 * 保存值到当前表单中
+	 * @param vdb 数据库对象
+	 * @param value 值，通常是排列
 	 * @return
 	 */
 	public int save(VDB vdb, Object value) {
@@ -439,12 +439,12 @@ class Section extends ISection {
 	}
 
 	/**
-	 * ֵӱ
-	 * @param vdb ݿ
-	 * @param value ֵͨ
-	 * @param path ӽֵӽֵ
-	 * @param name ӽӽ
-	 * @return 0ɹ
+	 * 保存值到子表单中
+	 * @param vdb 数据库对象
+	 * @param value 值，通常是排列
+	 * @param path 子节值或子节值序列
+	 * @param name 子节名或子节名序列
+	 * @return 0：成功
 	 */
 	public int save(VDB vdb, Object value, Object path, Object name) {
 		Section sub;
@@ -486,11 +486,11 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ·
-	 * @param vdb ݿ
-	 * @param path ӽֵӽֵ
-	 * @param name ӽӽ
-	 * @return 0ɹ
+	 * 创建子路径
+	 * @param vdb 数据库对象
+	 * @param path 子节值或子节值序列
+	 * @param name 子节名或子节名序列
+	 * @return 0：成功
 	 */
 	public int makeDir(VDB vdb, Object path, Object name) {
 		Section sub;
@@ -532,14 +532,14 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * 
-	 * @param vdb ݿ
-	 * @param key 
-	 * @param len ϣ
-	 * @return 0ɹ
+	 * 创建键库节
+	 * @param vdb 数据库对象
+	 * @param key 键库名称
+	 * @param len 哈希长度
+	 * @return 0：成功
 	 */
 	public int createSubKeyDir(VDB vdb, Object key, int len) {
-		// סύ޸
+		// 锁住并提交修改
 		int result = lockForWrite(vdb);
 		if (result == VDB.S_LOCKTIMEOUT) {
 			return result;
@@ -556,12 +556,12 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * 渽ͨͼƬ
-	 * @param vdb ݿ
-	 * @param oldValues һεôκķֵ
-	 * @param newValues ޸ĺֵ
-	 * @param name 
-	 * @return ֵУһεô˺
+	 * 保存附件，通常是图片
+	 * @param vdb 数据库对象
+	 * @param oldValues 上一次调用次函数的返回值
+	 * @param newValues 修改后的值
+	 * @param name 节名
+	 * @return 值序列，用于下一次调用此函数
 	 */
 	public Sequence saveBlob(VDB vdb, Sequence oldValues, Sequence newValues, String name) {
 		ArrayList<Object> deleteList = new ArrayList<Object>();
@@ -692,7 +692,7 @@ class Section extends ISection {
 		if (zone != null) {
 			Object data = zone.getData(library);
 			addDataToTable(table, values, signs, data, filter, ctx);
-			// еѡֶٱ
+			// 如果有单据满足了选出字段则不再遍历子
 			//if (isAdded) {
 			//	return;
 			//}
@@ -752,7 +752,7 @@ class Section extends ISection {
 		if (zone != null) {
 			Object data = zone.getData(library);
 			addDataToTable(table, values, signs, data);
-			// еѡֶٱ
+			// 如果有单据满足了选出字段则不再遍历子
 			//if (isAdded) {
 			//	return;
 			//}
@@ -795,10 +795,10 @@ class Section extends ISection {
 					out.addAll(seq);
 				}
 
-				// еѡֶٱӣ
+				// 如果有单据满足了选出字段则不再遍历子？
 			}
 			
-			// ݹӽڵ
+			// 不递归遍历所有子节点
 			if (!isRecursion) {
 				return;
 			}
@@ -823,17 +823,17 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ֵֶָ
-	 * @param vdb ݿ
-	 * @param dirNames ·
-	 * @param dirValues ·ֵ
-	 * @param valueSigns trueĿ¼ʱĿ¼ֵnullѡֵnullĿ¼falseʡĿ¼ֵԴĿ¼
-	 * @param fvals Ҫ޸ĵֵֶ
-	 * @param fields Ҫ޸ĵֶ
-	 * @param exp ʽ
-	 * @param isRecursion trueȥ·ȱʡ漰㼴ֹͣ
-	 * @param ctx 
-	 * @return 0ɹ
+	 * 更新指定表单里的字段值
+	 * @param vdb 数据库对象
+	 * @param dirNames 路径名数组
+	 * @param dirValues 路径值数组
+	 * @param valueSigns true：对目录提条件，此时如果传入的目录值是null，则会选值是null的目录，false：省略目录值，即不对此目录提条件
+	 * @param fvals 表单里要修改的字段值数组
+	 * @param fields 表单里要修改的字段名数组
+	 * @param exp 条件表达式
+	 * @param isRecursion true：归去找子路径，缺省将读到参数所涉及层即停止
+	 * @param ctx 计算上下文
+	 * @return 0：成功
 	 */
 	public int update(VDB vdb, String []dirNames, Object []dirValues, boolean []valueSigns, 
 			Object []fvals, String []fields, Expression exp, boolean isRecursion, Context ctx) {
@@ -895,9 +895,9 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ɾǰ
-	 * @param vdb ݿ
-	 * @return 0ɹ
+	 * 删除当前节
+	 * @param vdb 数据库对象
+	 * @return 0：成功
 	 */
 	public int delete(VDB vdb) {
 		Section parent = getParentSection();
@@ -923,15 +923,15 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ݿάִд˲ʱӦֹͣ
-	 * ˽ڵΪɾɾ˽ڵµĿӽڵ
-	 * @param vdb ݿ
-	 * @return trueпĿ¼ɾfalseû
+	 * 用于数据库的维护，执行此操作时应该停止服务
+	 * 如果此节点为空则删除，否则删除此节点下的空子节点
+	 * @param vdb 数据库对象
+	 * @return true：有空目录被删除，false：没有
 	 */
 	public boolean deleteNullSection(VDB vdb) {
 		int result = lockForWrite(vdb);
 		if (result == VDB.S_LOCKTIMEOUT) {
-			// ڵڱ޸
+			// 节点在被别人修改
 			return false;
 		}
 		
@@ -972,13 +972,13 @@ class Section extends ISection {
 		}
 	}
 	
-	// ҪԴĿ¼ҪжԴûύ
+	// 需要锁定源目录？需要判断源有没有提交
 	/**
-	 * ƶǰڵָĿ¼
-	 * @param vdb ݿ
-	 * @param dest Ŀ·
-	 * @param value ½ֵʡԭĽֵ
-	 * @return 0ɹ
+	 * 移动当前节到指定目录下
+	 * @param vdb 数据库对象
+	 * @param dest 目标路径
+	 * @param value 新节值，省略用原来的节值
+	 * @return 0：成功
 	 */
 	public int move(VDB vdb, Section dest, Object value) {
 		Section parent = (Section)getParent();
@@ -1011,7 +1011,7 @@ class Section extends ISection {
 		Dir subDir = dest.createSubDir(vdb, value, dir.getName());
 		
 		if (header <= 0) {
-			// ûύʱ¸·޸Ķеĺ棬Ҫ׿
+			// 还没有提交，此时新父路径可能在修改队列的后面，需要先申请首块
 			header = vdb.getLibrary().applyHeaderBlock();
 		}
 		
@@ -1043,24 +1043,24 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ɾʱĲٱõλ
-	 * @param library ݿ
-	 * @param outerSeq 
-	 * @param txSeq ڴ
+	 * 删除超时的不会再被引用到的区位
+	 * @param library 数据库对象
+	 * @param outerSeq 外存号
+	 * @param txSeq 内存号
 	 */
 	public void deleteOutdatedZone(Library library, int outerSeq, long txSeq) {
 		headerBlock.deleteOutdatedZone(library, outerSeq, txSeq);
 	}
 	
 	/**
-	 * ύ
-	 * @param library ݿ
-	 * @param outerSeq 
-	 * @param innerSeq ڴ
+	 * 提交事务
+	 * @param library 数据库对象
+	 * @param outerSeq 外存号
+	 * @param innerSeq 内存号
 	 * @throws IOException
 	 */
 	public void commit(Library library, int outerSeq, long innerSeq) throws IOException {
-		// ڿؽûύɾˣʱύ
+		// 节可能是在事务内重建，没提交又删除了，这时不提交了
 		if (isModified && header > 0) {
 			headerBlock.commit(library, header, outerSeq, innerSeq);
 		}
@@ -1069,9 +1069,9 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ɨѾ飬ڴ洢
-	 * @param library ݿ
-	 * @param manager 
+	 * 扫描已经的物理块，用于存储分配
+	 * @param library 数据库对象
+	 * @param manager 块管理器
 	 * @throws IOException
 	 */
 	public void scanUsedBlocks(Library library, BlockManager manager) throws IOException {
@@ -1080,19 +1080,19 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ȡǰڵύʱ
-	 * @return ʱֵ
+	 * 取当前节的提交时间
+	 * @return 时间值
 	 */
 	public long getCommitTime() {
 		return headerBlock.getCommitTime();
 	}
 	
 	/**
-	 * 
-	 * @param vdb ݿ
-	 * @param path ӽֵӽֵ
-	 * @param name ӽӽ
-	 * @return 0ɹ
+	 * 重命名节名
+	 * @param vdb 数据库对象
+	 * @param path 子节值或子节值序列
+	 * @param name 子节名或子节名序列
+	 * @return 0：成功
 	 */
 	public int rename(VDB vdb, Object path, String name) {
 		Section section;
@@ -1135,7 +1135,7 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ǷǼ
+	 * 是否是键库节
 	 * @return
 	 */
 	public boolean isKeySection() {
@@ -1147,9 +1147,9 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ָڹ鵵
-	 * @param vdb ݿ
-	 * @param path ·
+	 * 吧指定节归档
+	 * @param vdb 数据库对象
+	 * @param path 路径
 	 * @return
 	 */
 	public int archive(VDB vdb, Object path) {
@@ -1201,17 +1201,17 @@ class Section extends ISection {
 	}
 	
 	/**
-	 * ͷŻĽڶͷڴ
+	 * 释放缓存的节对象，用于释放内存
 	 */
 	public void releaseSubSection() {
 		headerBlock.releaseSubSection();
 	}
 	
 	/**
-	 * ݿݵ¿
-	 * @param srcLib Դ
-	 * @param destLib Ŀ
-	 * @param destHeader Ŀ׿
+	 * 整理数据库数据到新库
+	 * @param srcLib 源库
+	 * @param destLib 目标库
+	 * @param destHeader 目标库首块
 	 * @throws IOException
 	 */
 	public void reset(Library srcLib, Library destLib, int destHeader) throws IOException {
@@ -20,31 +20,31 @@ import com.scudata.util.Variant;
 import java.sql.Timestamp;
 
 /**
- * ݿӣvdbase()ӦĿ¼
+ * 数据库连接，由vdbase()函数产生，对应根目录
  * @author RunQian
  *
  */
 public class VDB implements IVS, IResource {
-	public static final int S_SUCCESS = 0; // ɹ
-	public static final int S_LOCKTIMEOUT = 1; // ʱ
-	public static final int S_LOCKTWICE = -1; // ظ
-	public static final int S_PATHNOTEXIST = 2; // ·
-	public static final int S_TARGETPATHEXIST = 3; // Ŀ·Ѵ
-	public static final int S_IOERROR = 4; // IO
-	public static final int S_PARAMTYPEERROR = 5; // ʹ
-	public static final int S_PARAMERROR = 6; // ֵ
-	public static final int S_ACHEIVED = 7; // ·Ѿ鵵
+	public static final int S_SUCCESS = 0; // 成功
+	public static final int S_LOCKTIMEOUT = 1; // 锁超时
+	public static final int S_LOCKTWICE = -1; // 重复锁
+	public static final int S_PATHNOTEXIST = 2; // 路径不存在
+	public static final int S_TARGETPATHEXIST = 3; // 目标路径已存在
+	public static final int S_IOERROR = 4; // IO错误
+	public static final int S_PARAMTYPEERROR = 5; // 参数类型错误
+	public static final int S_PARAMERROR = 6; // 参数值错误
+	public static final int S_ACHEIVED = 7; // 路径已经归档
 	
-	private static final long LATEST_TX_SEQ = Long.MAX_VALUE; // λ
+	private static final long LATEST_TX_SEQ = Long.MAX_VALUE; // 读最新区位的事务号
 	
-	private Library library; // Ӧ
-	private ISection rootSection; // 
+	private Library library; // 对应的物理库
+	private ISection rootSection; // 根节
 	
-	private ArrayList<ISection> modifySections = new ArrayList<ISection>(); // δύSectionб
+	private ArrayList<ISection> modifySections = new ArrayList<ISection>(); // 未提交Section列表
 	
 	private int error = S_SUCCESS;
-	private boolean isAutoCommit = true; // ǷԶύ
-	private long loadTxSeq = LATEST_TX_SEQ; // ţûµ
+	private boolean isAutoCommit = true; // 是否自动提交
+	private long loadTxSeq = LATEST_TX_SEQ; // 读事务号，如果没有启动事务则读最新的
 
 	public VDB(Library library) {
 		this.library = library;
@@ -53,7 +53,7 @@ public class VDB implements IVS, IResource {
 
 	public void checkValid() {
 		if (library == null) {
-			throw new RQException("ӹر");
+			throw new RQException("连接关闭");
 		}
 	}
 	
@@ -69,7 +69,7 @@ public class VDB implements IVS, IResource {
 		return library;
 	}
 	
-	// 
+	// 启动事务
 	public boolean begin() {
 		checkValid();
 		
@@ -81,7 +81,7 @@ public class VDB implements IVS, IResource {
 		return true;
 	}
 
-	// ύ
+	// 提交并结束事务
 	public int commit() {
 		if (error != S_SUCCESS) {
 			int result = error;
@@ -99,7 +99,7 @@ public class VDB implements IVS, IResource {
 		return S_SUCCESS;
 	}
 
-	// ع
+	// 回滚并结束事务
 	public void rollback() {
 		checkValid();
 
@@ -115,7 +115,7 @@ public class VDB implements IVS, IResource {
 	//	Logger.info(hashCode(), new Exception());
 	//}
 	
-	// رݿӣعǰδ
+	// 关闭数据库连接，回滚当前未完成事务
 	public void close() {
 		if (library != null) {
 			//printStack();
@@ -136,7 +136,7 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ȡӵĵǰ
+	 * 取连接的当前节
 	 * @return ISection
 	 */
 	public ISection getHome() {
@@ -144,7 +144,7 @@ public class VDB implements IVS, IResource {
 	}
 
 	/**
-	 * õǰ·дڴ·
+	 * 设置当前路径，后续读写操作将相对于此路径
 	 * @param path
 	 * @return IVS
 	 */
@@ -153,7 +153,7 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * صǰ·
+	 * 返回当前路径
 	 * @param opt
 	 * @return Object
 	 */
@@ -185,7 +185,7 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ӽڵб
+	 * 添加节到更改列表中
 	 * @param section
 	 */
 	void addModifySection(ISection section) {
@@ -193,7 +193,7 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ѽڴӸбɾȡ
+	 * 把节从更改列表中删除，取消更改
 	 * @param section
 	 */
 	void removeModifySection(ISection section) {
@@ -202,57 +202,57 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * д뵽ǰ
-	 * @param value 
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 把数据写入到当前表单
+	 * @param value 数据
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int save(Object value) {
 		return save(rootSection, value);
 	}
 	
 	/**
-	 * д뵽ָ·ı
-	 * @param value 
-	 * @param path ··
-	 * @param name ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 把数据写入到指定路径的表单
+	 * @param value 数据
+	 * @param path 路径或路径序列
+	 * @param name 路径名或路径名序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int save(Object value, Object path, Object name) {
 		return save(rootSection, value, path, name);
 	}
 	
 	/**
-	 * Ŀ¼
-	 * @param path ··
-	 * @param name ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 创建目录
+	 * @param path 路径或路径序列
+	 * @param name 路径名或路径名序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int makeDir(Object path, Object name) {
 		return makeDir(rootSection, path, name);
 	}
 	
 	/**
-	 * סǰ·
-	 * @param opt ѡr·򶼼дu
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 锁住当前路径
+	 * @param opt 选项，r：整个路径域都加写锁，u：解锁
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int lock(String opt) {
 		return lock(rootSection, opt);
 	}
 	
 	/**
-	 * סָ·
-	 * @param path ··
-	 * @param opt ѡr·򶼼дu
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 锁住指定路径
+	 * @param path 路径或路径序列
+	 * @param opt 选项，r：整个路径域都加写锁，u：解锁
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int lock(Object path, String opt) {
 		return lock(rootSection, path, opt);
 	}
 	
 	/**
-	 * гǰ·µļس
-	 * @param opt ѡdгĿ¼wļĿ¼ȫгlȼ
+	 * 列出当前路径下的子文件，返回成序列
+	 * @param opt 选项，d：列出子目录，w：不区分文件和目录全部列出，l：先加锁
 	 * @return Sequence
 	 */
 	public Sequence list(String opt) {
@@ -260,9 +260,9 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * гָ·µļس
-	 * @param path ··
-	 * @param opt ѡdгĿ¼wļĿ¼ȫгlȼ
+	 * 列出指定路径下的子文件，返回成序列
+	 * @param path 路径或路径序列
+	 * @param opt 选项，d：列出子目录，w：不区分文件和目录全部列出，l：先加锁
 	 * @return Sequence
 	 */
 	public Sequence list(Object path, String opt) {
@@ -270,8 +270,8 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ǰ
-	 * @param opt ѡlȼ
+	 * 读当前表单的数据
+	 * @param opt 选项，l：先加锁
 	 * @return Object
 	 */
 	public Object load(String opt) {
@@ -279,9 +279,9 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ָ·ı
-	 * @param path ··
-	 * @param opt ѡlȼ
+	 * 读指定路径的表单的数据
+	 * @param path 路径或路径序列
+	 * @param opt 选项，l：先加锁
 	 * @return Object
 	 */
 	public Object load(Object path, String opt) {
@@ -289,7 +289,7 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ·ύʱ
+	 * 返回路径的最新提交时刻
 	 * @return Timestamp
 	 */
 	public Timestamp date() {
@@ -297,20 +297,20 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ǰ·аֶָεı
-	 * @param fields ֶ
-	 * @return 
+	 * 读出当前路径下所有包含指定字段的表单的数据
+	 * @param fields 字段名数组
+	 * @return 序表
 	 */
 	public Table importTable(String []fields) {
 		return importTable(rootSection, fields);
 	}
 	
 	 /**
-	  *  ǰ·аֶָεı
-	  * @param fields ֶ
-	  * @param filters ˱ʽ
-	  * @param ctx 
-	  * @return 
+	  *  读出当前路径下所有包含指定字段的表单的数据
+	  * @param fields 字段名数组
+	  * @param filters 过滤表达式数组
+	  * @param ctx 计算上下文
+	  * @return 序表
 	  */
 	public Table importTable(String []fields, Expression []filters, Context ctx) {
 		return importTable(rootSection, fields, filters, ctx);
@@ -515,19 +515,19 @@ public class VDB implements IVS, IResource {
 	}
 
 	/**
-	 * ѡΪɾڵ㣬ѡΪeɾµĿӽڵ
-	 * @param opt eֻɾµĿսڵ
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 如果选项为空则删除节点，如果选项为“e”则删除其下的空子节点
+	 * @param opt e：只删除其下的空节点
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int delete(String opt) {
 		return delete(rootSection, opt);
 	}
 	
 	/**
-	 * ѡΪɾڵ㣬ѡΪeɾµĿӽڵ
-	 * @param path ··
-	 * @param opt eֻɾµĿսڵ
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 如果选项为空则删除节点，如果选项为“e”则删除其下的空子节点
+	 * @param path 路径或路径序列
+	 * @param opt e：只删除其下的空节点
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int delete(Object path, String opt) {
 		ISection sub;
@@ -541,9 +541,9 @@ public class VDB implements IVS, IResource {
 	}
 
 	/**
-	 * ɾ
+	 * 删除多节
 	 * @param paths
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int deleteAll(Sequence paths) {
 		return deleteAll(rootSection, paths);
@@ -600,7 +600,7 @@ public class VDB implements IVS, IResource {
 		if (section == null) {
 			//setError(S_PATHNOTEXIST);
 			//return S_PATHNOTEXIST;
-			return S_SUCCESS; // Դ·ڲٷش󣬷dfxҪж
+			return S_SUCCESS; // 源路径不存在不再返回错误，否则dfx要加判断
 		}
 		
 		int result = VDB.S_SUCCESS;
@@ -618,11 +618,11 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ƶĿ¼ָĿ¼
-	 * @param srcPath Դ··
-	 * @param destPath Ŀ··
-	 * @param name Ŀ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 移动目录到指定目录
+	 * @param srcPath 源路径或路径序列
+	 * @param destPath 目标路径或路径序列
+	 * @param name 目标路径名或路径名序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int move(Object srcPath, Object destPath, Object name) {
 		return move(rootSection, srcPath, destPath, name);
@@ -647,7 +647,7 @@ public class VDB implements IVS, IResource {
 		if (sub == null) {
 			//setError(S_PATHNOTEXIST);
 			//return S_PATHNOTEXIST;
-			return S_SUCCESS; // Դ·ڲٷش󣬷dfxҪж
+			return S_SUCCESS; // 源路径不存在不再返回错误，否则dfx要加判断
 		}
 		
 		ISection dest = null;
@@ -701,13 +701,13 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ݿжȡֶ׷ӵָ
-	 * @param seq 
-	 * @param pathExp ·ʽ
-	 * @param fields Ҫȡֶ
-	 * @param filter ˱ʽ
-	 * @param ctx 
-	 * @return 
+	 * 从数据库中读取其它字段追加到指定排列上
+	 * @param seq 排列
+	 * @param pathExp 路径表达式
+	 * @param fields 要读取的字段名数组
+	 * @param filter 过滤表达式
+	 * @param ctx 计算上下文
+	 * @return 结果集序表
 	 */
 	public Table read(Sequence seq, Expression pathExp, 
 			String []fields, Expression filter, Context ctx) {
@@ -885,14 +885,14 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * еֶָд뵽
-	 * @param seq 
-	 * @param pathExp ·ʽ
-	 * @param fieldExps ֵֶʽ
-	 * @param fields ֶ
-	 * @param filter ˱ʽ
-	 * @param ctx 
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 把排列的指定字段写入到表单
+	 * @param seq 排列
+	 * @param pathExp 路径表达式
+	 * @param fieldExps 字段值表达式数组
+	 * @param fields 字段名数组
+	 * @param filter 过滤表达式
+	 * @param ctx 计算上下文
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int write(Sequence seq, Expression pathExp, Expression []fieldExps, 
 			String []fields, Expression filter, Context ctx) {
@@ -939,13 +939,13 @@ public class VDB implements IVS, IResource {
 				if (value instanceof Sequence) {
 					Sequence data = (Sequence)value;
 					if (fieldExps == null) {
-						// ɾ
+						// 删除满足条件的
 						value = data.select(filter, "x", ctx);
 						if (data.length() != ((Sequence)value).length()) {
 							isModified = true;
 						}
 					} else {
-						// ޸
+						// 修改满足条件的
 						if (filter != null) {
 							data = (Sequence)data.select(filter, null, ctx);
 						}
@@ -958,7 +958,7 @@ public class VDB implements IVS, IResource {
 				} else if (value instanceof BaseRecord) {
 					BaseRecord r = (BaseRecord)value;
 					if (fieldExps == null) {
-						// ɾ
+						// 删除满足条件的
 						if (Variant.isTrue(r.calc(filter, ctx))) {
 							value = null;
 							isModified = true;
@@ -990,15 +990,15 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * 
-	 * @param dirNames ·
-	 * @param dirValues ·ֵ飬ڹ
-	 * @param valueSigns trueĿ¼ʱĿ¼ֵnullѡֵnullĿ¼falseʡĿ¼ֵԴĿ¼
-	 * @param fields Ҫֶ
-	 * @param filter 
-	 * @param opt ѡrȥ·ȱʡ漰㼴ֹͣ
-	 * @param ctx 
-	 * @return 
+	 * 根据条件检索数据
+	 * @param dirNames 路径名数组
+	 * @param dirValues 路径值数组，用于过滤
+	 * @param valueSigns true：对目录提条件，此时如果传入的目录值是null，则会选值是null的目录，false：省略目录值，即不对此目录提条件
+	 * @param fields 单据中要读的字段名数组
+	 * @param filter 过滤条件
+	 * @param opt 选项，r：归去找子路径，缺省将读到参数所涉及层即停止
+	 * @param ctx 计算上下文
+	 * @return 结果集排列
 	 */
 	public Sequence retrieve(String []dirNames, Object []dirValues, boolean []valueSigns, 
 			String []fields, Expression filter, String opt, Context ctx) {
@@ -1020,16 +1020,16 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ҳĵݺдݵֵֶ
-	 * @param dirNames ·
-	 * @param dirValues ·ֵ飬ڹ
-	 * @param valueSigns trueĿ¼ʱĿ¼ֵnullѡֵnullĿ¼falseʡĿ¼ֵԴĿ¼
-	 * @param fvals еֵֶ
-	 * @param fields еֶ
-	 * @param filter 
-	 * @param opt ѡrȥ·ȱʡ漰㼴ֹͣ
-	 * @param ctx 
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 找出满足条件的单据后改写单据的字段值
+	 * @param dirNames 路径名数组
+	 * @param dirValues 路径值数组，用于过滤
+	 * @param valueSigns true：对目录提条件，此时如果传入的目录值是null，则会选值是null的目录，false：省略目录值，即不对此目录提条件
+	 * @param fvals 单据中的字段值数组
+	 * @param fields 单据中的字段名数组
+	 * @param filter 过滤条件
+	 * @param opt 选项，r：归去找子路径，缺省将读到参数所涉及层即停止
+	 * @param ctx 计算上下文
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int update(String []dirNames, Object []dirValues, boolean []valueSigns, 
 			Object []fvals, String []fields, Expression filter, String opt, Context ctx) {
@@ -1056,12 +1056,12 @@ public class VDB implements IVS, IResource {
 	}
 
 	/**
-	 * 渽ͨͼƬ
-	 * @param oldValues һεôκķֵ
-	 * @param newValues ޸ĺֵ
-	 * @param path ··
-	 * @param name ··
-	 * @return ֵУһεô˺
+	 * 保存附件，通常是图片
+	 * @param oldValues 上一次调用次函数的返回值
+	 * @param newValues 修改后的值
+	 * @param path 路径或路径序列
+	 * @param name 路径名或路径名序列
+	 * @return 值序列，用于下一次调用此函数
 	 */
 	public Sequence saveBlob(Sequence oldValues, Sequence newValues, Object path, String name) {
 		return saveBlob(rootSection, oldValues, newValues, path, name);
@@ -1098,10 +1098,10 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ·
-	 * @param ··
-	 * @param ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 重新命名路径名
+	 * @param 路径或路径序列
+	 * @param 路径名或路径名序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int rename(Object path, String name) {
 		return rename(rootSection, path, name);
@@ -1125,9 +1125,9 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * 鵵ָ·鵵·дռõĿռСѯٶȻ
-	 * @param path ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 归档指定路径，归档后路径不可再写，占用的空间会变小，查询速度会变快
+	 * @param path 路径或路径序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int archive(Object path) {
 		return archive(rootSection, path);
@@ -1155,12 +1155,12 @@ public class VDB implements IVS, IResource {
 	}
 	
 	/**
-	 * ·ָ·
-	 * @param destPath Ŀ··
-	 * @param destName Ŀ··
-	 * @param src Դݿ
-	 * @param srcPath Դ··
-	 * @return ɹVDB.S_SUCCESSʧ
+	 * 复制路径到指定路径下
+	 * @param destPath 目标路径或路径序列
+	 * @param destName 目标路径名或路径名序列
+	 * @param src 源数据库连接
+	 * @param srcPath 源路径或路径序列
+	 * @return 成功：VDB.S_SUCCESS，其它：失败
 	 */
 	public int copy(Object destPath, Object destName, IVS src, Object srcPath) {
 		return copy(rootSection, destPath, destName, src, srcPath);
@@ -1210,10 +1210,10 @@ public class VDB implements IVS, IResource {
 			IDir srcDir = src.getHome().getDir();			
 			IDir destDir = destSection.getDir();
 			if (srcDir.getParent().getDir() == destDir) {
-				// ͬһĿ¼Ҫ
+				// 同一个目录不需要复制
 				return S_SUCCESS;
 			} else {
-				// Դ·ǲĿ·ĸ
+				// 检查源路径是不是目标路径的父
 				while (destDir != null) {
 					if (destDir == srcDir) {
 						setError(S_PARAMERROR);
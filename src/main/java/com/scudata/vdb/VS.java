@@ -8,7 +8,7 @@ import com.scudata.dm.Table;
 import com.scudata.expression.Expression;
 
 /**
- * ݿӣh.home()ӦмĿ¼
+ * 数据库连接，由h.home()函数产生，对应中间目录
  * @author RunQian
  *
  */
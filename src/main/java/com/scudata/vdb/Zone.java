@@ -6,14 +6,14 @@ import com.scudata.dm.ObjectReader;
 import com.scudata.dm.ObjectWriter;
 
 /**
- * λ
+ * 区位基类
  * @author RunQian
  *
  */
 class Zone {
-	protected int outerSeq; // ţÿݿ1
-	protected long innerSeq; // ڴţ1
-	protected int block; // λӦռõ׿
+	protected int outerSeq; // 外存号，每次启动数据库加1
+	protected long innerSeq; // 内存号，根据事务加1
+	protected int block; // 区位对应的数据占用的物理块首块
 	
 	public Zone() {
 	}
@@ -51,10 +51,10 @@ class Zone {
 		writer.writeInt(block);
 	}
 	
-	// жvdbǷʹλƥ
+	// 判断vdb的事务启动号是否和此区位匹配
 	public boolean match(VDB vdb, boolean isLockVDB) {
 		if (outerSeq == 0) {
-			// λδύǷǴvdb
+			// 区位尚未提交，返回是否是此vdb锁定的这个节
 			return isLockVDB;
 		}
 		
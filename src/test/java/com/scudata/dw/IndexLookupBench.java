@@ -0,0 +1,138 @@
+package com.scudata.dw;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.scudata.dm.BaseRecord;
+import com.scudata.dm.Context;
+import com.scudata.dm.FileObject;
+import com.scudata.dm.Sequence;
+import com.scudata.dm.cursor.ICursor;
+
+/**
+ * 哈希索引点查询的测试程序，输出索引页缓存的命中率和每批查询时间的分位数
+ * 用法：IndexLookupBench 组表文件 索引名 索引字段 [查询批数] [每批的值数] [线程数]
+ * 查询的值从组表的前100万条记录中随机抽取，先不用页缓存查一遍作为对照，再用页缓存查两遍
+ * 放在测试源码目录，不随产品发布
+ * @author RunQian
+ *
+ */
+public final class IndexLookupBench {
+	private static final int MAX_KEY_COUNT = 1000000; // 最多从组表中取的键数
+
+	private IndexLookupBench() {
+	}
+
+	public static void main(String []args) throws Exception {
+		if (args.length < 3) {
+			System.out.println("IndexLookupBench ctxFile indexName keyField [batchCount] [batchSize] [threadCount]");
+			return;
+		}
+
+		int batchCount = args.length > 3 ? Integer.parseInt(args[3]) : 10000;
+		int batchSize = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+		int threadCount = args.length > 5 ? Integer.parseInt(args[5]) : 1;
+
+		Context ctx = new Context();
+		ComTable groupTable = ComTable.open(new File(args[0]), ctx);
+		try {
+			PhyTable table = groupTable.getBaseTable();
+			String dir = groupTable.getFile().getAbsolutePath() + "_";
+			FileObject indexFile = new FileObject(dir + table.getTableName() + "_" + args[1]);
+			ITableIndex index = table.getTableMetaDataIndex(indexFile, args[1], true);
+			if (!(index instanceof TableHashIndex)) {
+				System.out.println(args[1] + " is not a hash index");
+				return;
+			}
+
+			Object []keys = loadKeys(table, args[2]);
+			System.out.println("keys: " + keys.length + ", batches: " + batchCount + ", batch size: " +
+					batchSize + ", threads: " + threadCount);
+
+			IndexPageCache pageCache = IndexPageCache.getInstance();
+			long maxBytes = pageCache.getMaxCacheBytes();
+			pageCache.setMaxCacheBytes(0);
+			run("no cache", (TableHashIndex)index, keys, batchCount, batchSize, threadCount, ctx);
+
+			pageCache.setMaxCacheBytes(maxBytes > 0 ? maxBytes : 64L * 1024 * 1024);
+			run("cold cache", (TableHashIndex)index, keys, batchCount, batchSize, threadCount, ctx);
+			run("warm cache", (TableHashIndex)index, keys, batchCount, batchSize, threadCount, ctx);
+		} finally {
+			groupTable.close();
+		}
+	}
+
+	private static Object[] loadKeys(PhyTable table, String field) {
+		ICursor cs = table.cursor(new String[] {field});
+		Sequence seq = cs.fetch(MAX_KEY_COUNT);
+		cs.close();
+
+		int len = seq == null ? 0 : seq.length();
+		Object []keys = new Object[len];
+		for (int i = 0; i < len; ++i) {
+			keys[i] = ((BaseRecord)seq.getMem(i + 1)).getNormalFieldValue(0);
+		}
+
+		return keys;
+	}
+
+	// 多个线程分批查询，输出吞吐量、页缓存的命中率和每批查询时间的分位数
+	private static void run(String title, final TableHashIndex index, final Object []keys, int batchCount,
+			final int batchSize, int threadCount, final Context ctx) throws InterruptedException {
+		IndexPageCache pageCache = IndexPageCache.getInstance();
+		long hit = pageCache.getHitCount();
+		long miss = pageCache.getMissCount();
+
+		final long []times = new long[batchCount];
+		Thread []threads = new Thread[threadCount];
+		final int countPerThread = (batchCount + threadCount - 1) / threadCount;
+		long start = System.nanoTime();
+
+		for (int t = 0; t < threadCount; ++t) {
+			final int begin = t * countPerThread;
+			final int end = Math.min(begin + countPerThread, batchCount);
+			final long seed = t + 1;
+			threads[t] = new Thread() {
+				public void run() {
+					Random random = new Random(seed);
+					for (int b = begin; b < end; ++b) {
+						Object []vals = new Object[batchSize];
+						for (int i = 0; i < batchSize; ++i) {
+							vals[i] = keys[random.nextInt(keys.length)];
+						}
+
+						long time = System.nanoTime();
+						index.select(vals, null, ctx);
+						times[b] = System.nanoTime() - time;
+					}
+				}
+			};
+
+			threads[t].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		long total = System.nanoTime() - start;
+		hit = pageCache.getHitCount() - hit;
+		miss = pageCache.getMissCount() - miss;
+		Arrays.sort(times);
+
+		System.out.println(title + ": " + (long)(batchCount * 1000000000.0 / total) + " batches/s" +
+				", hit rate " + (hit + miss == 0 ? "-" : String.format("%.2f%%", hit * 100.0 / (hit + miss))) +
+				", p50 " + toMicros(times, 0.5) + "us, p99 " + toMicros(times, 0.99) +
+				"us, max " + toMicros(times, 1) + "us, cache " + (pageCache.getCacheBytes() >> 10) + "KB");
+	}
+
+	private static long toMicros(long []times, double p) {
+		if (times.length == 0) {
+			return 0;
+		}
+
+		int i = (int)Math.ceil(p * times.length) - 1;
+		return times[Math.max(i, 0)] / 1000;
+	}
+}
@@ -0,0 +1,143 @@
+package com.scudata.expression;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import com.scudata.array.IArray;
+import com.scudata.dm.Context;
+
+/**
+ * 列出还没有实现批量计算的运算符和全局函数
+ * 这些节点的calculateAll使用Node的缺省实现，逐行调用calculate并把结果装箱到ObjectArray中
+ * 用于查找需要补充calculateAll实现的节点，放在测试源码目录，不随产品发布
+ * @author RunQian
+ *
+ */
+public final class CalculateAllReport {
+	// 运算符类名，运算符由表达式解析时直接创建，不在函数库中注册
+	private static final String []OPERATORS = {
+		"Add", "AddAssign", "And", "Assign", "Comma", "Conj", "ConjAssign", "Diff",
+		"Divide", "DivideAssign", "DotOperator", "Equals", "Greater", "ISect", "ISectAssign",
+		"IntDivideAssign", "MemAdd", "MemDivide", "MemIntDivide", "MemMod", "MemMultiply",
+		"MemSubtract", "Mod", "ModAssign", "Multiply", "MultiplyAssign", "Negative", "Not",
+		"NotEquals", "NotGreater", "NotSmaller", "Or", "Plus", "Smaller", "Subtract",
+		"SubtractAssign", "Union", "UnionAssign"};
+
+	private static final String OPERATOR_PACKAGE = "com.scudata.expression.operator.";
+
+	private CalculateAllReport() {
+	}
+
+	// 判断类或者它在Node之下的父类是否声明了指定参数的calculateAll
+	private static boolean isDeclared(Class<?> c, Class<?> ...parameterTypes) {
+		for (; c != null && c != Node.class; c = c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod("calculateAll", parameterTypes);
+				return true;
+			} catch (NoSuchMethodException e) {
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * 判断节点类是否实现了calculateAll(Context)
+	 * @param c 节点类
+	 * @return true：实现了批量计算，false：使用逐行计算的缺省实现
+	 */
+	public static boolean isCalculateAll(Class<? extends Node> c) {
+		return isDeclared(c, Context.class);
+	}
+
+	/**
+	 * 判断节点类是否实现了calculateAll(Context, IArray, boolean)
+	 * @param c 节点类
+	 * @return true：实现了批量计算，false：使用逐行计算的缺省实现
+	 */
+	public static boolean isSignCalculateAll(Class<? extends Node> c) {
+		return isDeclared(c, Context.class, IArray.class, boolean.class);
+	}
+
+	// 生成报告行：名称 [类名] 缺少的方法
+	private static String getLine(String name, Class<? extends Node> c) {
+		boolean all = isCalculateAll(c);
+		boolean signAll = isSignCalculateAll(c);
+		if (all && signAll) {
+			return null;
+		}
+
+		StringBuffer sb = new StringBuffer();
+		sb.append(name).append(" [").append(c.getName()).append("]");
+		if (!all) {
+			sb.append(" calculateAll(ctx)");
+		}
+
+		if (!signAll) {
+			sb.append(" calculateAll(ctx, signArray, sign)");
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * 取使用逐行计算的运算符
+	 * @return 报告行列表，每行是运算符类名和缺少的方法
+	 */
+	public static ArrayList<String> getRowOperators() {
+		ArrayList<String> list = new ArrayList<String>();
+		for (String name : OPERATORS) {
+			try {
+				Class<? extends Node> c = Class.forName(OPERATOR_PACKAGE + name).asSubclass(Node.class);
+				String line = getLine(name, c);
+				if (line != null) {
+					list.add(line);
+				}
+			} catch (ClassNotFoundException e) {
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * 取使用逐行计算的全局函数，汇总函数在分组时计算，不列在其中
+	 * @return 报告行列表，每行是函数名、类名和缺少的方法
+	 */
+	public static ArrayList<String> getRowFunctions() {
+		ArrayList<String> names = FunctionLib.getFunctionNames();
+		Collections.sort(names);
+		ArrayList<String> list = new ArrayList<String>();
+
+		for (String name : names) {
+			Class<? extends Function> c = FunctionLib.getFunctionClass(name);
+			if (c != null && !Gather.class.isAssignableFrom(c)) {
+				String line = getLine(name, c);
+				if (line != null) {
+					list.add(line);
+				}
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * 输出报告
+	 * @param args
+	 */
+	public static void main(String []args) {
+		ArrayList<String> operators = getRowOperators();
+		ArrayList<String> functions = getRowFunctions();
+
+		System.out.println("Operators: " + operators.size());
+		for (String line : operators) {
+			System.out.println("  " + line);
+		}
+
+		System.out.println("Functions: " + functions.size());
+		for (String line : functions) {
+			System.out.println("  " + line);
+		}
+	}
+}